@@ -65,6 +65,19 @@ class CallbackFunction internal constructor(
             else              -> if (mapping === TypeMapping.VOID) 'v' else throw IllegalArgumentException("Unsupported callback native type: $this")
         }
 
+    /** The {@code CallbackI} interface with a specialized native upcall path that matches this callback, if any. */
+    private val fastInterface: String?
+        get() = if (returns is StructType || returns.mapping === PrimitiveMapping.BOOLEAN4 || javaSignature.any {
+            it.nativeType is StructType || it.nativeType.mapping === PrimitiveMapping.BOOLEAN4
+        })
+            null
+        else when ("(${javaSignature.map { it.nativeType.dyncall }.joinToString("")})${returns.dyncall}") {
+            "(pp)p" -> "P_PP"
+            "(pp)i" -> "I_PP"
+            "(pi)v" -> "V_PI"
+            else    -> null
+        }
+
     private val NativeType.argType
         get() = if (isPointer) "Pointer" else when (mapping) {
             PrimitiveMapping.BOOLEAN -> "Bool"
@@ -194,14 +207,15 @@ import static org.lwjgl.system.MemoryUtil.*;
         println("package $packageName;\n")
 
         println("import org.lwjgl.system.*;\n")
-        if (signature.isNotEmpty()) {
+        val fastInterface = fastInterface
+        if (signature.isNotEmpty() && fastInterface == null) {
             println("import static org.lwjgl.system.dyncall.DynCallback.*;\n")
         }
 
         generateDocumentation(false)
         print("""@FunctionalInterface
 @NativeType("$nativeType")
-${access.modifier}interface ${className}I extends CallbackI.${returns.jniSignature} {
+${access.modifier}interface ${className}I extends CallbackI.${fastInterface ?: returns.jniSignature} {
 
     String SIGNATURE = ${"\"(${javaSignature.map { it.nativeType.dyncall }.joinToString("")})${returns.dyncall}\"".let {
             if (module.callingConvention === CallingConvention.STDCALL) "Callback.__stdcall($it)" else it
@@ -209,18 +223,28 @@ ${access.modifier}interface ${className}I extends CallbackI.${returns.jniSignatu
 
     @Override
     default String getSignature() { return SIGNATURE; }
-
+""")
+        if (fastInterface != null) {
+            print("""
+    @Override
+    default ${returns.nativeMethodType} callback(${javaSignature.joinToString(", ") { "${it.nativeType.nativeMethodType} ${it.name}" }}) {
+        ${if (returns.mapping != TypeMapping.VOID) "return " else ""}invoke(${javaSignature.joinToString(", ") { it.name }});
+    }
+""")
+        } else {
+            print("""
     @Override
     default ${returns.nativeMethodType} callback(long args) {
         """)
-        if (returns.mapping != TypeMapping.VOID)
-            print("return ")
-        print("""invoke(${if (javaSignature.none()) "" else javaSignature.joinToString(",\n", prefix = "\n", postfix = "\n$t$t") {
+            if (returns.mapping != TypeMapping.VOID)
+                print("return ")
+            print("""invoke(${if (javaSignature.none()) "" else javaSignature.joinToString(",\n", prefix = "\n", postfix = "\n$t$t") {
             val arg = "dcbArg${it.nativeType.argType}(args)${if (it.nativeType.mapping === PrimitiveMapping.BOOLEAN4) " != 0" else ""}"
             "$t$t$t${if (it.nativeType is StructType) "${it.nativeType.definition.className}.create($arg)" else arg}"
         }});
     }
 """)
+        }
         val doc = functionDoc(this@CallbackFunction)
         if (doc.isNotEmpty()) {
             println()
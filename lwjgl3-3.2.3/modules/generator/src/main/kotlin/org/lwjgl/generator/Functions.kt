@@ -32,6 +32,7 @@ internal const val POINTER_POSTFIX = "Address"
 internal const val MAP_OLD = "old_buffer"
 internal const val MAP_LENGTH = "length"
 const val FUNCTION_ADDRESS = "__functionAddress"
+internal const val PROFILE_START = "__start"
 
 internal const val JNIENV = "__env"
 
@@ -172,6 +173,13 @@ class Func(
         && (!has<Macro> { expression != null })
     }
 
+    // Native-only functions have no Java wrapper to instrument, global variable accessors are not calls worth measuring
+    internal val isProfiled
+        get() = !has<Reuse>() && !isNativeOnly && !has<Macro> { !function || expression != null }
+
+    private val profileId: String?
+        get() = nativeClass.profiledFunctions[name]?.let { if (it == 0) "PROFILE_ID" else "PROFILE_ID + $it" }
+
     internal val hasArrayOverloads
         get() = !has<OffHeapOnly>() && this.parameters
             .count { it.isAutoSizeResultOut }
@@ -818,9 +826,15 @@ class Func(
         }
 
         // Native method call
+        val profileId = this@Func.profileId
+        val profileResult = profileId != null && !returns.isVoid && !returns.isStructValue
+        if (profileId != null)
+            println("$t${t}long $PROFILE_START = FunctionProfiler.start();")
         print("$t$t")
         if (!returns.isVoid && !returns.isStructValue)
             print("return ")
+        if (profileResult)
+            print("FunctionProfiler.end($profileId, $PROFILE_START, ")
         print(if (hasCustomJNI)
             "n$name("
         else
@@ -840,7 +854,9 @@ class Func(
             print(", ")
             print(RESULT)
         }
-        println(");")
+        println(if (profileResult) "));" else ");")
+        if (profileId != null && !profileResult)
+            println("$t${t}FunctionProfiler.end($profileId, $PROFILE_START);")
 
         println("$t}")
     }
@@ -1077,9 +1093,16 @@ class Func(
         val returnsObject = returns.nativeType is WrappedPointerType
         val returnType = if (returnsObject) (returns.nativeType as WrappedPointerType).className else returns.nativeMethodType
 
-        if (hasFinally)
-            print(t)
-        print("$t$t")
+        val macroExpression = if (has<Macro>()) get<Macro>().expression else null
+
+        // The unsafe method is already profiled
+        val profileId = if (hasUnsafeMethod || macroExpression != null) null else this@Func.profileId
+        val profileResult = profileId != null && !(returns.isVoid || returns.isStructValue)
+        val indent = if (hasFinally) "$t$t$t" else "$t$t"
+
+        if (profileId != null)
+            println("${indent}long $PROFILE_START = FunctionProfiler.start();")
+        print(indent)
         if (!(returns.isVoid || returns.isStructValue)) {
             if (returnLater || returns.nativeType.isPointerData) {
                 print("$returnType $RESULT = ")
@@ -1092,7 +1115,8 @@ class Func(
             }
         }
 
-        val macroExpression = if (has<Macro>()) get<Macro>().expression else null
+        if (profileResult)
+            print("FunctionProfiler.end($profileId, $PROFILE_START, ")
         if (hasUnsafeMethod) {
             print("n$name(")
         } else {
@@ -1120,6 +1144,8 @@ class Func(
             }
             print(")")
         }
+        if (profileResult)
+            print(")")
 
         if (returnsObject) {
             if (has<Construct>()) {
@@ -1133,6 +1159,8 @@ class Func(
         if (returns.nativeType.mapping == PrimitiveMapping.BOOLEAN4)
             print(" != 0")
         println(";")
+        if (profileId != null && !profileResult)
+            println("${indent}FunctionProfiler.end($profileId, $PROFILE_START);")
     }
 
     /** Alternative methods are generated by applying one or more transformations. */
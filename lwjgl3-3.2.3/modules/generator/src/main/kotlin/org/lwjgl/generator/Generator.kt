@@ -311,6 +311,12 @@ class Generator(private val moduleRoot: String) {
             it.generateJava()
         }
 
+        if (target === JNI) {
+            generateOutput(JNI, Paths.get("$modulePath/src/generated/java22/${target.packageName.replace('.', '/')}/${target.className}.java"), lmt) {
+                it.generateJava22()
+            }
+        }
+
         if (target is GeneratorTargetNative && !target.skipNative) {
             generateNative(target) {
                 generateOutput(target, it) { out ->
@@ -10,7 +10,8 @@ import java.util.concurrent.*
 /** Deduplicates JNI signatures from bindings and generates the org.lwjgl.system.JNI class. */
 object JNI : GeneratorTargetNative(Module.CORE, "JNI") {
 
-    private val signatures = ConcurrentHashMap<Signature, Unit>()
+    /** Maps each signature to true if it is only used by functions in CRITICAL_FUNCTIONS. */
+    private val signatures = ConcurrentHashMap<Signature, Boolean>()
     private val signaturesArray = ConcurrentHashMap<SignatureArray, Unit>()
 
     init {
@@ -18,16 +19,53 @@ object JNI : GeneratorTargetNative(Module.CORE, "JNI") {
         // bootstrapping or other internal functionality.
 
         // invokePPV(NSView, setWantsBestResolutionOpenGLSurface, true/false, objc_msgSend);
-        signatures[Signature(CallingConvention.DEFAULT, void, listOf(opaque_p, opaque_p, bool))] = Unit
+        signatures[Signature(CallingConvention.DEFAULT, void, listOf(opaque_p, opaque_p, bool))] = false
     }
 
     private val sortedSignatures by lazy(LazyThreadSafetyMode.NONE) { signatures.keys.sorted() }
     private val sortedSignaturesArray by lazy(LazyThreadSafetyMode.NONE) { signaturesArray.keys.sorted() }
 
-    internal fun register(function: Func) = signatures.put(Signature(function), Unit)
+    internal fun register(function: Func) = signatures.merge(Signature(function), function.name in CRITICAL_FUNCTIONS, Boolean::and)
     internal fun registerArray(function: Func) = signaturesArray.put(SignatureArray(function), Unit)
 
-    internal fun register(function: CallbackFunction) = signatures.put(Signature(function), Unit)
+    // Callback function pointers may point to anything.
+    internal fun register(function: CallbackFunction) = signatures.merge(Signature(function), false, Boolean::and)
+
+    /**
+     * Functions that may be called via critical downcall handles in the FFM backend. A signature uses a critical handle only if all functions with that
+     * signature are listed here.
+     *
+     * Each function must return quickly, must never block and must never call into Java. This cannot be derived from the function signature (e.g.
+     * vkWaitForFences has the same parameter types as many leaf functions), so functions are added explicitly.
+     */
+    private val CRITICAL_FUNCTIONS = setOf(
+        // Vulkan command buffer recording
+        "vkCmdBeginRenderPass",
+        "vkCmdBindDescriptorSets",
+        "vkCmdBindIndexBuffer",
+        "vkCmdBindPipeline",
+        "vkCmdBindVertexBuffers",
+        "vkCmdCopyBuffer",
+        "vkCmdDispatch",
+        "vkCmdDispatchIndirect",
+        "vkCmdDraw",
+        "vkCmdDrawIndexed",
+        "vkCmdDrawIndexedIndirect",
+        "vkCmdDrawIndirect",
+        "vkCmdEndRenderPass",
+        "vkCmdNextSubpass",
+        "vkCmdPipelineBarrier",
+        "vkCmdPushConstants",
+        "vkCmdSetBlendConstants",
+        "vkCmdSetDepthBias",
+        "vkCmdSetDepthBounds",
+        "vkCmdSetLineWidth",
+        "vkCmdSetScissor",
+        "vkCmdSetStencilCompareMask",
+        "vkCmdSetStencilReference",
+        "vkCmdSetStencilWriteMask",
+        "vkCmdSetViewport"
+    )
 
     init {
         documentation =
@@ -95,6 +133,111 @@ object JNI : GeneratorTargetNative(Module.CORE, "JNI") {
         println("\n}")
     }
 
+    private val NativeType.valueLayout
+        get() = if (this.isPointer)
+            "JAVA_LONG"
+        else if (this.mapping === PrimitiveMapping.CLONG)
+            "C_LONG"
+        else when (this.mapping.nativeMethodType) {
+            Boolean::class.java -> "JAVA_BOOLEAN"
+            Byte::class.java    -> "JAVA_BYTE"
+            Char::class.java    -> "JAVA_CHAR"
+            Double::class.java  -> "JAVA_DOUBLE"
+            Float::class.java   -> "JAVA_FLOAT"
+            Int::class.java     -> "JAVA_INT"
+            Long::class.java    -> "JAVA_LONG"
+            Short::class.java   -> "JAVA_SHORT"
+            else                -> throw IllegalArgumentException("Unsupported downcall type: $this")
+        }
+
+    /**
+     * Generates the Java 22 version of the JNI class. Pointer API methods are dispatched to FFM downcall handles, if enabled, or to the same JNI functions
+     * as the Java 8 version. Array API methods are always JNI methods.
+     */
+    internal fun PrintWriter.generateJava22() {
+        print(HEADER)
+        println("package $packageName;\n")
+        println("""import javax.annotation.*;
+import java.lang.invoke.*;
+
+import static java.lang.foreign.ValueLayout.*;
+import static org.lwjgl.system.FFM.*;
+""")
+        println(processDocumentation("""
+            ${documentation!!}
+
+            This is the Java 22 version of the class. If {@link Configuration\#JNI_FFM} is enabled, the Pointer API methods call native functions via
+            downcall handles of the Foreign Function &amp; Memory API.
+            """).toJavaDoc(indentation = ""))
+        print("""public final class JNI {
+
+    static {
+        Library.initialize();
+        registerNatives(JNI.class);
+    }
+
+    private JNI() {}
+
+    // Pointer API
+""")
+        sortedSignatures.forEach {
+            val params = it.arguments.asSequence()
+                .mapIndexed { i, param -> "${param.nativeMethodType} param$i" }
+                .plus("long $FUNCTION_ADDRESS")
+                .joinToString(", ")
+            val args = it.arguments.indices
+                .map { i -> "param$i" }
+                .plus(FUNCTION_ADDRESS)
+                .joinToString(", ")
+            val returnType = it.returnType.nativeMethodType
+            val ret = if (it.returnType.mapping === TypeMapping.VOID) "" else "return "
+            print("""
+    public static $returnType ${it.signature}($params) {
+        if (ENABLED) {
+            try {
+                $ret${if (ret.isEmpty()) "" else "($returnType)"}${it.signatureNative}.HANDLE.invokeExact($args);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }${if (ret.isEmpty()) """
+            return;""" else ""}
+        }
+        ${ret}n${it.signature}($args);
+    }
+""")
+        }
+
+        println("\n$t// Array API\n")
+
+        sortedSignaturesArray.forEach {
+            print("${t}public static native ${it.returnType.nativeMethodType} ${it.signature}(")
+            if (it.arguments.isNotEmpty())
+                print(it.arguments.asSequence()
+                    .mapIndexed { i, param -> if (param is ArrayType<*>) "@Nullable ${param.mapping.primitive}[] param$i" else "${param.nativeMethodType} param$i" }
+                    .joinToString(", ", postfix = ", "))
+            println("long $FUNCTION_ADDRESS);")
+        }
+
+        println("\n$t// JNI fallback, bound by FFM.registerNatives\n")
+
+        sortedSignatures.forEach {
+            print("${t}private static native ${it.returnType.nativeMethodType} n${it.signature}(")
+            if (it.arguments.isNotEmpty())
+                print(it.arguments.asSequence()
+                    .mapIndexed { i, param -> "${param.nativeMethodType} param$i" }
+                    .joinToString(", ", postfix = ", "))
+            println("long $FUNCTION_ADDRESS);")
+        }
+
+        println("\n$t// Downcall handles, created lazily\n")
+
+        sortedSignatures.forEach {
+            println("${t}private static final class ${it.signatureNative} { static final MethodHandle HANDLE = downcall(${signatures.getValue(it)}, ${
+                if (it.returnType.mapping === TypeMapping.VOID) "null" else it.returnType.valueLayout
+            }${it.arguments.joinToString("") { arg -> ", ${arg.valueLayout}" }}); }")
+        }
+        println("\n}")
+    }
+
     private val NativeType.nativeType
         get() = if (this.isPointer)
             "intptr_t"
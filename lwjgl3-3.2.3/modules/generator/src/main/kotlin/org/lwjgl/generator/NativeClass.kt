@@ -202,6 +202,18 @@ class NativeClass internal constructor(
         ArrayList<Func>(_functions.values)
     }
 
+    // function name -> offset from PROFILE_ID, core bindings are not profiled (FunctionProfiler itself depends on them). Functions without a Java wrapper
+    // (e.g. most OpenGL functions) and global variable accessors are excluded, see Func.isProfiled.
+    internal val profiledFunctions: Map<String, Int> by lazy(LazyThreadSafetyMode.NONE) {
+        if (module.name.startsWith("CORE"))
+            emptyMap()
+        else
+            functions
+                .filter { it.isProfiled }
+                .mapIndexed { i, func -> func.name to i }
+                .toMap()
+    }
+
     private val customMethods = ArrayList<String>()
 
     internal val hasBody
@@ -514,6 +526,9 @@ class NativeClass internal constructor(
             it.generate(this)
         }
 
+        if (profiledFunctions.isNotEmpty())
+            println("\n${t}private static final int PROFILE_ID = FunctionProfiler.register($className.class, \"${profiledFunctions.keys.joinToString(",")}\");")
+
         fun PrintWriter.libraryInit() {
             if (module.library != null || binding !is SimpleBinding) {
                 println(if (module.library == null)
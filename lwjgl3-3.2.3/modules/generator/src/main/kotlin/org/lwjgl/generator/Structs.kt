@@ -31,6 +31,16 @@ private val BUFFER_KEYWORDS = setOf(
     "apply", "get", "parallelStream", "put", "stream"
 )
 
+/** Member mappings that support bulk (strided) copies in struct buffers. */
+private val BULK_MAPPINGS = setOf(
+    PrimitiveMapping.BYTE,
+    PrimitiveMapping.SHORT,
+    PrimitiveMapping.INT,
+    PrimitiveMapping.LONG,
+    PrimitiveMapping.FLOAT,
+    PrimitiveMapping.DOUBLE
+)
+
 open class StructMember(
     val nativeType: DataType,
     val name: String,
@@ -998,6 +1008,24 @@ $indentation}"""
     public static $className callocStack(MemoryStack stack) {
         return wrap($className.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
+
+    /**
+     * Returns a new {@code $className} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static $className malloc(MemoryArena arena) {
+        return wrap($className.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code $className} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static $className calloc(MemoryArena arena) {
+        return wrap($className.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
 """)
             if (generateBuffer) {
                 print("""
@@ -1038,6 +1066,26 @@ $indentation}"""
     public static $className.Buffer callocStack(int $BUFFER_CAPACITY_PARAM, MemoryStack stack) {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, $BUFFER_CAPACITY_PARAM, SIZEOF), $BUFFER_CAPACITY_PARAM);
     }
+
+    /**
+     * Returns a new {@link $className.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param $BUFFER_CAPACITY_PARAM the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static $className.Buffer malloc(int $BUFFER_CAPACITY_PARAM, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc($BUFFER_CAPACITY_PARAM, SIZEOF)), $BUFFER_CAPACITY_PARAM);
+    }
+
+    /**
+     * Returns a new {@link $className.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param $BUFFER_CAPACITY_PARAM the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static $className.Buffer calloc(int $BUFFER_CAPACITY_PARAM, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, $BUFFER_CAPACITY_PARAM, SIZEOF), $BUFFER_CAPACITY_PARAM);
+    }
 """)
             }
         }
@@ -1156,6 +1204,10 @@ ${validations.joinToString("\n")}
                     println()
                     generateSetters(AccessMode.FLYWEIGHT, settableMembers)
                 }
+
+                if (alias == null) {
+                    generateBulkAccessors(members)
+                }
             }
 
             print("""
@@ -2098,6 +2150,43 @@ $indent */""")
         }
     }
 
+    private val StructMember.isBulkAccessible
+        get() = this !is StructMemberArray && !isNestedStruct && bits == -1 && getter == null && !has<UserDataMember>() && BULK_MAPPINGS.contains(nativeType.mapping)
+
+    private fun PrintWriter.generateBulkAccessors(members: Sequence<StructMember>) {
+        val getters = members.filter { it.isBulkAccessible }.toList()
+        if (getters.isEmpty()) {
+            return
+        }
+
+        val setters = if (hasMutableMembers())
+            settableMembers.filter { it.isBulkAccessible && it.setter == null }.toList()
+        else
+            emptyList()
+
+        println()
+        getters.forEach {
+            val offset = "$className.${it.offsetField}"
+            val method = "get${it.name.upperCaseFirst}"
+            println("$t$t/** Copies the {@code ${it.name}} field of the structs between the current position and limit to the specified array. */")
+            println("$t${t}public $className.Buffer $method(${it.nativeType.javaMethodType}[] dst) { gather($offset, dst); return this; }")
+            println("$t$t/** Copies the {@code ${it.name}} field of the structs between the current position and limit to the specified buffer. */")
+            println("$t${t}public $className.Buffer $method(${(it.nativeType.mapping as PrimitiveMapping).toPointer.javaMethodName} dst) { gather($offset, dst); return this; }")
+        }
+
+        if (setters.isNotEmpty()) {
+            println()
+            setters.forEach {
+                val offset = "$className.${it.offsetField}"
+                val method = "put${it.name.upperCaseFirst}"
+                println("$t$t/** Copies the values in the specified array to the {@code ${it.name}} field of the structs between the current position and limit. */")
+                println("$t${t}public $className.Buffer $method(${it.nativeType.javaMethodType}[] src) { scatter($offset, src); return this; }")
+                println("$t$t/** Copies the values in the specified buffer to the {@code ${it.name}} field of the structs between the current position and limit. */")
+                println("$t${t}public $className.Buffer $method(${(it.nativeType.mapping as PrimitiveMapping).toPointer.javaMethodName} src) { scatter($offset, src); return this; }")
+            }
+        }
+    }
+
     private fun getBufferMethod(type: String, member: StructMember, javaType: String) = if (member.nativeType.isPointer)
         "mem${type.upperCaseFirst}Address("
     else if (member.nativeType.mapping === PrimitiveMapping.CLONG)
@@ -206,6 +206,24 @@ public class AIAABB extends Struct implements NativeResource {
         return wrap(AIAABB.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIAABB} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIAABB malloc(MemoryArena arena) {
+        return wrap(AIAABB.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIAABB} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIAABB calloc(MemoryArena arena) {
+        return wrap(AIAABB.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIAABB.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -244,6 +262,26 @@ public class AIAABB extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIAABB.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIAABB.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIAABB.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIAABB.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mMin}. */
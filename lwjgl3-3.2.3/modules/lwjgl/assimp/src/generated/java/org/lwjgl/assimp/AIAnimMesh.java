@@ -327,6 +327,24 @@ public class AIAnimMesh extends Struct implements NativeResource {
         return wrap(AIAnimMesh.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIAnimMesh} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIAnimMesh malloc(MemoryArena arena) {
+        return wrap(AIAnimMesh.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIAnimMesh} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIAnimMesh calloc(MemoryArena arena) {
+        return wrap(AIAnimMesh.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIAnimMesh.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -365,6 +383,26 @@ public class AIAnimMesh extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIAnimMesh.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIAnimMesh.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIAnimMesh.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIAnimMesh.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -533,6 +571,24 @@ public class AIAnimMesh extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mWeight} field. */
         public AIAnimMesh.Buffer mWeight(float value) { AIAnimMesh.nmWeight(address(), value); return this; }
 
+        /** Copies the {@code mNumVertices} field of the structs between the current position and limit to the specified array. */
+        public AIAnimMesh.Buffer getMNumVertices(int[] dst) { gather(AIAnimMesh.MNUMVERTICES, dst); return this; }
+        /** Copies the {@code mNumVertices} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimMesh.Buffer getMNumVertices(IntBuffer dst) { gather(AIAnimMesh.MNUMVERTICES, dst); return this; }
+        /** Copies the {@code mWeight} field of the structs between the current position and limit to the specified array. */
+        public AIAnimMesh.Buffer getMWeight(float[] dst) { gather(AIAnimMesh.MWEIGHT, dst); return this; }
+        /** Copies the {@code mWeight} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimMesh.Buffer getMWeight(FloatBuffer dst) { gather(AIAnimMesh.MWEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mNumVertices} field of the structs between the current position and limit. */
+        public AIAnimMesh.Buffer putMNumVertices(int[] src) { scatter(AIAnimMesh.MNUMVERTICES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mNumVertices} field of the structs between the current position and limit. */
+        public AIAnimMesh.Buffer putMNumVertices(IntBuffer src) { scatter(AIAnimMesh.MNUMVERTICES, src); return this; }
+        /** Copies the values in the specified array to the {@code mWeight} field of the structs between the current position and limit. */
+        public AIAnimMesh.Buffer putMWeight(float[] src) { scatter(AIAnimMesh.MWEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mWeight} field of the structs between the current position and limit. */
+        public AIAnimMesh.Buffer putMWeight(FloatBuffer src) { scatter(AIAnimMesh.MWEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -289,6 +289,24 @@ public class AIAnimation extends Struct implements NativeResource {
         return wrap(AIAnimation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIAnimation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIAnimation malloc(MemoryArena arena) {
+        return wrap(AIAnimation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIAnimation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIAnimation calloc(MemoryArena arena) {
+        return wrap(AIAnimation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIAnimation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class AIAnimation extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIAnimation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIAnimation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIAnimation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIAnimation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -478,6 +516,36 @@ public class AIAnimation extends Struct implements NativeResource {
         /** Sets the address of the specified {@link PointerBuffer} to the {@code mMorphMeshChannels} field. */
         public AIAnimation.Buffer mMorphMeshChannels(@Nullable @NativeType("struct aiMeshMorphAnim **") PointerBuffer value) { AIAnimation.nmMorphMeshChannels(address(), value); return this; }
 
+        /** Copies the {@code mDuration} field of the structs between the current position and limit to the specified array. */
+        public AIAnimation.Buffer getMDuration(double[] dst) { gather(AIAnimation.MDURATION, dst); return this; }
+        /** Copies the {@code mDuration} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimation.Buffer getMDuration(DoubleBuffer dst) { gather(AIAnimation.MDURATION, dst); return this; }
+        /** Copies the {@code mTicksPerSecond} field of the structs between the current position and limit to the specified array. */
+        public AIAnimation.Buffer getMTicksPerSecond(double[] dst) { gather(AIAnimation.MTICKSPERSECOND, dst); return this; }
+        /** Copies the {@code mTicksPerSecond} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimation.Buffer getMTicksPerSecond(DoubleBuffer dst) { gather(AIAnimation.MTICKSPERSECOND, dst); return this; }
+        /** Copies the {@code mNumChannels} field of the structs between the current position and limit to the specified array. */
+        public AIAnimation.Buffer getMNumChannels(int[] dst) { gather(AIAnimation.MNUMCHANNELS, dst); return this; }
+        /** Copies the {@code mNumChannels} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimation.Buffer getMNumChannels(IntBuffer dst) { gather(AIAnimation.MNUMCHANNELS, dst); return this; }
+        /** Copies the {@code mNumMeshChannels} field of the structs between the current position and limit to the specified array. */
+        public AIAnimation.Buffer getMNumMeshChannels(int[] dst) { gather(AIAnimation.MNUMMESHCHANNELS, dst); return this; }
+        /** Copies the {@code mNumMeshChannels} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimation.Buffer getMNumMeshChannels(IntBuffer dst) { gather(AIAnimation.MNUMMESHCHANNELS, dst); return this; }
+        /** Copies the {@code mNumMorphMeshChannels} field of the structs between the current position and limit to the specified array. */
+        public AIAnimation.Buffer getMNumMorphMeshChannels(int[] dst) { gather(AIAnimation.MNUMMORPHMESHCHANNELS, dst); return this; }
+        /** Copies the {@code mNumMorphMeshChannels} field of the structs between the current position and limit to the specified buffer. */
+        public AIAnimation.Buffer getMNumMorphMeshChannels(IntBuffer dst) { gather(AIAnimation.MNUMMORPHMESHCHANNELS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mDuration} field of the structs between the current position and limit. */
+        public AIAnimation.Buffer putMDuration(double[] src) { scatter(AIAnimation.MDURATION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mDuration} field of the structs between the current position and limit. */
+        public AIAnimation.Buffer putMDuration(DoubleBuffer src) { scatter(AIAnimation.MDURATION, src); return this; }
+        /** Copies the values in the specified array to the {@code mTicksPerSecond} field of the structs between the current position and limit. */
+        public AIAnimation.Buffer putMTicksPerSecond(double[] src) { scatter(AIAnimation.MTICKSPERSECOND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mTicksPerSecond} field of the structs between the current position and limit. */
+        public AIAnimation.Buffer putMTicksPerSecond(DoubleBuffer src) { scatter(AIAnimation.MTICKSPERSECOND, src); return this; }
+
     }
 
 }
\ No newline at end of file
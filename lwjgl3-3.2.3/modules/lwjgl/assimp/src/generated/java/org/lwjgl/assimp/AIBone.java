@@ -245,6 +245,24 @@ public class AIBone extends Struct implements NativeResource {
         return wrap(AIBone.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIBone} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIBone malloc(MemoryArena arena) {
+        return wrap(AIBone.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIBone} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIBone calloc(MemoryArena arena) {
+        return wrap(AIBone.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIBone.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class AIBone extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIBone.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIBone.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIBone.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIBone.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -386,6 +424,11 @@ public class AIBone extends Struct implements NativeResource {
         /** Passes the {@code mOffsetMatrix} field to the specified {@link java.util.function.Consumer Consumer}. */
         public AIBone.Buffer mOffsetMatrix(java.util.function.Consumer<AIMatrix4x4> consumer) { consumer.accept(mOffsetMatrix()); return this; }
 
+        /** Copies the {@code mNumWeights} field of the structs between the current position and limit to the specified array. */
+        public AIBone.Buffer getMNumWeights(int[] dst) { gather(AIBone.MNUMWEIGHTS, dst); return this; }
+        /** Copies the {@code mNumWeights} field of the structs between the current position and limit to the specified buffer. */
+        public AIBone.Buffer getMNumWeights(IntBuffer dst) { gather(AIBone.MNUMWEIGHTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -306,6 +306,24 @@ public class AICamera extends Struct implements NativeResource {
         return wrap(AICamera.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AICamera} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AICamera malloc(MemoryArena arena) {
+        return wrap(AICamera.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AICamera} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AICamera calloc(MemoryArena arena) {
+        return wrap(AICamera.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AICamera.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -344,6 +362,26 @@ public class AICamera extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AICamera.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AICamera.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AICamera.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AICamera.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -464,6 +502,40 @@ public class AICamera extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mAspect} field. */
         public AICamera.Buffer mAspect(float value) { AICamera.nmAspect(address(), value); return this; }
 
+        /** Copies the {@code mHorizontalFOV} field of the structs between the current position and limit to the specified array. */
+        public AICamera.Buffer getMHorizontalFOV(float[] dst) { gather(AICamera.MHORIZONTALFOV, dst); return this; }
+        /** Copies the {@code mHorizontalFOV} field of the structs between the current position and limit to the specified buffer. */
+        public AICamera.Buffer getMHorizontalFOV(FloatBuffer dst) { gather(AICamera.MHORIZONTALFOV, dst); return this; }
+        /** Copies the {@code mClipPlaneNear} field of the structs between the current position and limit to the specified array. */
+        public AICamera.Buffer getMClipPlaneNear(float[] dst) { gather(AICamera.MCLIPPLANENEAR, dst); return this; }
+        /** Copies the {@code mClipPlaneNear} field of the structs between the current position and limit to the specified buffer. */
+        public AICamera.Buffer getMClipPlaneNear(FloatBuffer dst) { gather(AICamera.MCLIPPLANENEAR, dst); return this; }
+        /** Copies the {@code mClipPlaneFar} field of the structs between the current position and limit to the specified array. */
+        public AICamera.Buffer getMClipPlaneFar(float[] dst) { gather(AICamera.MCLIPPLANEFAR, dst); return this; }
+        /** Copies the {@code mClipPlaneFar} field of the structs between the current position and limit to the specified buffer. */
+        public AICamera.Buffer getMClipPlaneFar(FloatBuffer dst) { gather(AICamera.MCLIPPLANEFAR, dst); return this; }
+        /** Copies the {@code mAspect} field of the structs between the current position and limit to the specified array. */
+        public AICamera.Buffer getMAspect(float[] dst) { gather(AICamera.MASPECT, dst); return this; }
+        /** Copies the {@code mAspect} field of the structs between the current position and limit to the specified buffer. */
+        public AICamera.Buffer getMAspect(FloatBuffer dst) { gather(AICamera.MASPECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mHorizontalFOV} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMHorizontalFOV(float[] src) { scatter(AICamera.MHORIZONTALFOV, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mHorizontalFOV} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMHorizontalFOV(FloatBuffer src) { scatter(AICamera.MHORIZONTALFOV, src); return this; }
+        /** Copies the values in the specified array to the {@code mClipPlaneNear} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMClipPlaneNear(float[] src) { scatter(AICamera.MCLIPPLANENEAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mClipPlaneNear} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMClipPlaneNear(FloatBuffer src) { scatter(AICamera.MCLIPPLANENEAR, src); return this; }
+        /** Copies the values in the specified array to the {@code mClipPlaneFar} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMClipPlaneFar(float[] src) { scatter(AICamera.MCLIPPLANEFAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mClipPlaneFar} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMClipPlaneFar(FloatBuffer src) { scatter(AICamera.MCLIPPLANEFAR, src); return this; }
+        /** Copies the values in the specified array to the {@code mAspect} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMAspect(float[] src) { scatter(AICamera.MASPECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mAspect} field of the structs between the current position and limit. */
+        public AICamera.Buffer putMAspect(FloatBuffer src) { scatter(AICamera.MASPECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -166,6 +166,19 @@ public class AIColor3D extends Struct {
         /** Returns the value of the {@code b} field. */
         public float b() { return AIColor3D.nb(address()); }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public AIColor3D.Buffer getR(float[] dst) { gather(AIColor3D.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor3D.Buffer getR(FloatBuffer dst) { gather(AIColor3D.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public AIColor3D.Buffer getG(float[] dst) { gather(AIColor3D.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor3D.Buffer getG(FloatBuffer dst) { gather(AIColor3D.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public AIColor3D.Buffer getB(float[] dst) { gather(AIColor3D.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor3D.Buffer getB(FloatBuffer dst) { gather(AIColor3D.B, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -231,6 +231,24 @@ public class AIColor4D extends Struct implements NativeResource {
         return wrap(AIColor4D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIColor4D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIColor4D malloc(MemoryArena arena) {
+        return wrap(AIColor4D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIColor4D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIColor4D calloc(MemoryArena arena) {
+        return wrap(AIColor4D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIColor4D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class AIColor4D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIColor4D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIColor4D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIColor4D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIColor4D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #r}. */
@@ -345,6 +383,40 @@ public class AIColor4D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code a} field. */
         public AIColor4D.Buffer a(float value) { AIColor4D.na(address(), value); return this; }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public AIColor4D.Buffer getR(float[] dst) { gather(AIColor4D.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor4D.Buffer getR(FloatBuffer dst) { gather(AIColor4D.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public AIColor4D.Buffer getG(float[] dst) { gather(AIColor4D.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor4D.Buffer getG(FloatBuffer dst) { gather(AIColor4D.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public AIColor4D.Buffer getB(float[] dst) { gather(AIColor4D.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor4D.Buffer getB(FloatBuffer dst) { gather(AIColor4D.B, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public AIColor4D.Buffer getA(float[] dst) { gather(AIColor4D.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public AIColor4D.Buffer getA(FloatBuffer dst) { gather(AIColor4D.A, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code r} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putR(float[] src) { scatter(AIColor4D.R, src); return this; }
+        /** Copies the values in the specified buffer to the {@code r} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putR(FloatBuffer src) { scatter(AIColor4D.R, src); return this; }
+        /** Copies the values in the specified array to the {@code g} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putG(float[] src) { scatter(AIColor4D.G, src); return this; }
+        /** Copies the values in the specified buffer to the {@code g} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putG(FloatBuffer src) { scatter(AIColor4D.G, src); return this; }
+        /** Copies the values in the specified array to the {@code b} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putB(float[] src) { scatter(AIColor4D.B, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putB(FloatBuffer src) { scatter(AIColor4D.B, src); return this; }
+        /** Copies the values in the specified array to the {@code a} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putA(float[] src) { scatter(AIColor4D.A, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a} field of the structs between the current position and limit. */
+        public AIColor4D.Buffer putA(FloatBuffer src) { scatter(AIColor4D.A, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -206,6 +206,24 @@ public class AIFace extends Struct implements NativeResource {
         return wrap(AIFace.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIFace} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIFace malloc(MemoryArena arena) {
+        return wrap(AIFace.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIFace} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIFace calloc(MemoryArena arena) {
+        return wrap(AIFace.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIFace.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -244,6 +262,26 @@ public class AIFace extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIFace.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIFace.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIFace.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIFace.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mNumIndices}. */
@@ -325,6 +363,11 @@ public class AIFace extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code mIndices} field. */
         public AIFace.Buffer mIndices(@NativeType("unsigned int *") IntBuffer value) { AIFace.nmIndices(address(), value); return this; }
 
+        /** Copies the {@code mNumIndices} field of the structs between the current position and limit to the specified array. */
+        public AIFace.Buffer getMNumIndices(int[] dst) { gather(AIFace.MNUMINDICES, dst); return this; }
+        /** Copies the {@code mNumIndices} field of the structs between the current position and limit to the specified buffer. */
+        public AIFace.Buffer getMNumIndices(IntBuffer dst) { gather(AIFace.MNUMINDICES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -331,6 +331,24 @@ public class AIImporterDesc extends Struct implements NativeResource {
         return wrap(AIImporterDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIImporterDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIImporterDesc malloc(MemoryArena arena) {
+        return wrap(AIImporterDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIImporterDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIImporterDesc calloc(MemoryArena arena) {
+        return wrap(AIImporterDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIImporterDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -369,6 +387,26 @@ public class AIImporterDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIImporterDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIImporterDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIImporterDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIImporterDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -568,6 +606,48 @@ public class AIImporterDesc extends Struct implements NativeResource {
         /** Sets the address of the specified encoded string to the {@code mFileExtensions} field. */
         public AIImporterDesc.Buffer mFileExtensions(@NativeType("char const *") ByteBuffer value) { AIImporterDesc.nmFileExtensions(address(), value); return this; }
 
+        /** Copies the {@code mFlags} field of the structs between the current position and limit to the specified array. */
+        public AIImporterDesc.Buffer getMFlags(int[] dst) { gather(AIImporterDesc.MFLAGS, dst); return this; }
+        /** Copies the {@code mFlags} field of the structs between the current position and limit to the specified buffer. */
+        public AIImporterDesc.Buffer getMFlags(IntBuffer dst) { gather(AIImporterDesc.MFLAGS, dst); return this; }
+        /** Copies the {@code mMinMajor} field of the structs between the current position and limit to the specified array. */
+        public AIImporterDesc.Buffer getMMinMajor(int[] dst) { gather(AIImporterDesc.MMINMAJOR, dst); return this; }
+        /** Copies the {@code mMinMajor} field of the structs between the current position and limit to the specified buffer. */
+        public AIImporterDesc.Buffer getMMinMajor(IntBuffer dst) { gather(AIImporterDesc.MMINMAJOR, dst); return this; }
+        /** Copies the {@code mMinMinor} field of the structs between the current position and limit to the specified array. */
+        public AIImporterDesc.Buffer getMMinMinor(int[] dst) { gather(AIImporterDesc.MMINMINOR, dst); return this; }
+        /** Copies the {@code mMinMinor} field of the structs between the current position and limit to the specified buffer. */
+        public AIImporterDesc.Buffer getMMinMinor(IntBuffer dst) { gather(AIImporterDesc.MMINMINOR, dst); return this; }
+        /** Copies the {@code mMaxMajor} field of the structs between the current position and limit to the specified array. */
+        public AIImporterDesc.Buffer getMMaxMajor(int[] dst) { gather(AIImporterDesc.MMAXMAJOR, dst); return this; }
+        /** Copies the {@code mMaxMajor} field of the structs between the current position and limit to the specified buffer. */
+        public AIImporterDesc.Buffer getMMaxMajor(IntBuffer dst) { gather(AIImporterDesc.MMAXMAJOR, dst); return this; }
+        /** Copies the {@code mMaxMinor} field of the structs between the current position and limit to the specified array. */
+        public AIImporterDesc.Buffer getMMaxMinor(int[] dst) { gather(AIImporterDesc.MMAXMINOR, dst); return this; }
+        /** Copies the {@code mMaxMinor} field of the structs between the current position and limit to the specified buffer. */
+        public AIImporterDesc.Buffer getMMaxMinor(IntBuffer dst) { gather(AIImporterDesc.MMAXMINOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mFlags} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMFlags(int[] src) { scatter(AIImporterDesc.MFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mFlags} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMFlags(IntBuffer src) { scatter(AIImporterDesc.MFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code mMinMajor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMinMajor(int[] src) { scatter(AIImporterDesc.MMINMAJOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mMinMajor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMinMajor(IntBuffer src) { scatter(AIImporterDesc.MMINMAJOR, src); return this; }
+        /** Copies the values in the specified array to the {@code mMinMinor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMinMinor(int[] src) { scatter(AIImporterDesc.MMINMINOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mMinMinor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMinMinor(IntBuffer src) { scatter(AIImporterDesc.MMINMINOR, src); return this; }
+        /** Copies the values in the specified array to the {@code mMaxMajor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMaxMajor(int[] src) { scatter(AIImporterDesc.MMAXMAJOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mMaxMajor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMaxMajor(IntBuffer src) { scatter(AIImporterDesc.MMAXMAJOR, src); return this; }
+        /** Copies the values in the specified array to the {@code mMaxMinor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMaxMinor(int[] src) { scatter(AIImporterDesc.MMAXMINOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mMaxMinor} field of the structs between the current position and limit. */
+        public AIImporterDesc.Buffer putMMaxMinor(IntBuffer src) { scatter(AIImporterDesc.MMAXMINOR, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -339,6 +339,31 @@ public class AILight extends Struct {
         @NativeType("struct aiVector2D")
         public AIVector2D mSize() { return AILight.nmSize(address()); }
 
+        /** Copies the {@code mType} field of the structs between the current position and limit to the specified array. */
+        public AILight.Buffer getMType(int[] dst) { gather(AILight.MTYPE, dst); return this; }
+        /** Copies the {@code mType} field of the structs between the current position and limit to the specified buffer. */
+        public AILight.Buffer getMType(IntBuffer dst) { gather(AILight.MTYPE, dst); return this; }
+        /** Copies the {@code mAttenuationConstant} field of the structs between the current position and limit to the specified array. */
+        public AILight.Buffer getMAttenuationConstant(float[] dst) { gather(AILight.MATTENUATIONCONSTANT, dst); return this; }
+        /** Copies the {@code mAttenuationConstant} field of the structs between the current position and limit to the specified buffer. */
+        public AILight.Buffer getMAttenuationConstant(FloatBuffer dst) { gather(AILight.MATTENUATIONCONSTANT, dst); return this; }
+        /** Copies the {@code mAttenuationLinear} field of the structs between the current position and limit to the specified array. */
+        public AILight.Buffer getMAttenuationLinear(float[] dst) { gather(AILight.MATTENUATIONLINEAR, dst); return this; }
+        /** Copies the {@code mAttenuationLinear} field of the structs between the current position and limit to the specified buffer. */
+        public AILight.Buffer getMAttenuationLinear(FloatBuffer dst) { gather(AILight.MATTENUATIONLINEAR, dst); return this; }
+        /** Copies the {@code mAttenuationQuadratic} field of the structs between the current position and limit to the specified array. */
+        public AILight.Buffer getMAttenuationQuadratic(float[] dst) { gather(AILight.MATTENUATIONQUADRATIC, dst); return this; }
+        /** Copies the {@code mAttenuationQuadratic} field of the structs between the current position and limit to the specified buffer. */
+        public AILight.Buffer getMAttenuationQuadratic(FloatBuffer dst) { gather(AILight.MATTENUATIONQUADRATIC, dst); return this; }
+        /** Copies the {@code mAngleInnerCone} field of the structs between the current position and limit to the specified array. */
+        public AILight.Buffer getMAngleInnerCone(float[] dst) { gather(AILight.MANGLEINNERCONE, dst); return this; }
+        /** Copies the {@code mAngleInnerCone} field of the structs between the current position and limit to the specified buffer. */
+        public AILight.Buffer getMAngleInnerCone(FloatBuffer dst) { gather(AILight.MANGLEINNERCONE, dst); return this; }
+        /** Copies the {@code mAngleOuterCone} field of the structs between the current position and limit to the specified array. */
+        public AILight.Buffer getMAngleOuterCone(float[] dst) { gather(AILight.MANGLEOUTERCONE, dst); return this; }
+        /** Copies the {@code mAngleOuterCone} field of the structs between the current position and limit to the specified buffer. */
+        public AILight.Buffer getMAngleOuterCone(FloatBuffer dst) { gather(AILight.MANGLEOUTERCONE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
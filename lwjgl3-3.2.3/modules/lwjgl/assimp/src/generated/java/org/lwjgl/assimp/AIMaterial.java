@@ -224,6 +224,24 @@ public class AIMaterial extends Struct implements NativeResource {
         return wrap(AIMaterial.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMaterial} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMaterial malloc(MemoryArena arena) {
+        return wrap(AIMaterial.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMaterial} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMaterial calloc(MemoryArena arena) {
+        return wrap(AIMaterial.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMaterial.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class AIMaterial extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMaterial.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMaterial.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMaterial.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMaterial.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mProperties() mProperties}. */
@@ -352,6 +390,20 @@ public class AIMaterial extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mNumAllocated} field. */
         public AIMaterial.Buffer mNumAllocated(@NativeType("unsigned int") int value) { AIMaterial.nmNumAllocated(address(), value); return this; }
 
+        /** Copies the {@code mNumProperties} field of the structs between the current position and limit to the specified array. */
+        public AIMaterial.Buffer getMNumProperties(int[] dst) { gather(AIMaterial.MNUMPROPERTIES, dst); return this; }
+        /** Copies the {@code mNumProperties} field of the structs between the current position and limit to the specified buffer. */
+        public AIMaterial.Buffer getMNumProperties(IntBuffer dst) { gather(AIMaterial.MNUMPROPERTIES, dst); return this; }
+        /** Copies the {@code mNumAllocated} field of the structs between the current position and limit to the specified array. */
+        public AIMaterial.Buffer getMNumAllocated(int[] dst) { gather(AIMaterial.MNUMALLOCATED, dst); return this; }
+        /** Copies the {@code mNumAllocated} field of the structs between the current position and limit to the specified buffer. */
+        public AIMaterial.Buffer getMNumAllocated(IntBuffer dst) { gather(AIMaterial.MNUMALLOCATED, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mNumAllocated} field of the structs between the current position and limit. */
+        public AIMaterial.Buffer putMNumAllocated(int[] src) { scatter(AIMaterial.MNUMALLOCATED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mNumAllocated} field of the structs between the current position and limit. */
+        public AIMaterial.Buffer putMNumAllocated(IntBuffer src) { scatter(AIMaterial.MNUMALLOCATED, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -227,6 +227,23 @@ public class AIMaterialProperty extends Struct {
         @NativeType("char *")
         public ByteBuffer mData() { return AIMaterialProperty.nmData(address()); }
 
+        /** Copies the {@code mSemantic} field of the structs between the current position and limit to the specified array. */
+        public AIMaterialProperty.Buffer getMSemantic(int[] dst) { gather(AIMaterialProperty.MSEMANTIC, dst); return this; }
+        /** Copies the {@code mSemantic} field of the structs between the current position and limit to the specified buffer. */
+        public AIMaterialProperty.Buffer getMSemantic(IntBuffer dst) { gather(AIMaterialProperty.MSEMANTIC, dst); return this; }
+        /** Copies the {@code mIndex} field of the structs between the current position and limit to the specified array. */
+        public AIMaterialProperty.Buffer getMIndex(int[] dst) { gather(AIMaterialProperty.MINDEX, dst); return this; }
+        /** Copies the {@code mIndex} field of the structs between the current position and limit to the specified buffer. */
+        public AIMaterialProperty.Buffer getMIndex(IntBuffer dst) { gather(AIMaterialProperty.MINDEX, dst); return this; }
+        /** Copies the {@code mDataLength} field of the structs between the current position and limit to the specified array. */
+        public AIMaterialProperty.Buffer getMDataLength(int[] dst) { gather(AIMaterialProperty.MDATALENGTH, dst); return this; }
+        /** Copies the {@code mDataLength} field of the structs between the current position and limit to the specified buffer. */
+        public AIMaterialProperty.Buffer getMDataLength(IntBuffer dst) { gather(AIMaterialProperty.MDATALENGTH, dst); return this; }
+        /** Copies the {@code mType} field of the structs between the current position and limit to the specified array. */
+        public AIMaterialProperty.Buffer getMType(int[] dst) { gather(AIMaterialProperty.MTYPE, dst); return this; }
+        /** Copies the {@code mType} field of the structs between the current position and limit to the specified buffer. */
+        public AIMaterialProperty.Buffer getMType(IntBuffer dst) { gather(AIMaterialProperty.MTYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -272,6 +272,24 @@ public class AIMatrix3x3 extends Struct implements NativeResource {
         return wrap(AIMatrix3x3.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMatrix3x3} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMatrix3x3 malloc(MemoryArena arena) {
+        return wrap(AIMatrix3x3.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMatrix3x3} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMatrix3x3 calloc(MemoryArena arena) {
+        return wrap(AIMatrix3x3.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMatrix3x3.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -310,6 +328,26 @@ public class AIMatrix3x3 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMatrix3x3.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMatrix3x3.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMatrix3x3.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMatrix3x3.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #a1}. */
@@ -426,6 +464,80 @@ public class AIMatrix3x3 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code c3} field. */
         public AIMatrix3x3.Buffer c3(float value) { AIMatrix3x3.nc3(address(), value); return this; }
 
+        /** Copies the {@code a1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getA1(float[] dst) { gather(AIMatrix3x3.A1, dst); return this; }
+        /** Copies the {@code a1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getA1(FloatBuffer dst) { gather(AIMatrix3x3.A1, dst); return this; }
+        /** Copies the {@code a2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getA2(float[] dst) { gather(AIMatrix3x3.A2, dst); return this; }
+        /** Copies the {@code a2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getA2(FloatBuffer dst) { gather(AIMatrix3x3.A2, dst); return this; }
+        /** Copies the {@code a3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getA3(float[] dst) { gather(AIMatrix3x3.A3, dst); return this; }
+        /** Copies the {@code a3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getA3(FloatBuffer dst) { gather(AIMatrix3x3.A3, dst); return this; }
+        /** Copies the {@code b1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getB1(float[] dst) { gather(AIMatrix3x3.B1, dst); return this; }
+        /** Copies the {@code b1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getB1(FloatBuffer dst) { gather(AIMatrix3x3.B1, dst); return this; }
+        /** Copies the {@code b2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getB2(float[] dst) { gather(AIMatrix3x3.B2, dst); return this; }
+        /** Copies the {@code b2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getB2(FloatBuffer dst) { gather(AIMatrix3x3.B2, dst); return this; }
+        /** Copies the {@code b3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getB3(float[] dst) { gather(AIMatrix3x3.B3, dst); return this; }
+        /** Copies the {@code b3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getB3(FloatBuffer dst) { gather(AIMatrix3x3.B3, dst); return this; }
+        /** Copies the {@code c1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getC1(float[] dst) { gather(AIMatrix3x3.C1, dst); return this; }
+        /** Copies the {@code c1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getC1(FloatBuffer dst) { gather(AIMatrix3x3.C1, dst); return this; }
+        /** Copies the {@code c2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getC2(float[] dst) { gather(AIMatrix3x3.C2, dst); return this; }
+        /** Copies the {@code c2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getC2(FloatBuffer dst) { gather(AIMatrix3x3.C2, dst); return this; }
+        /** Copies the {@code c3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix3x3.Buffer getC3(float[] dst) { gather(AIMatrix3x3.C3, dst); return this; }
+        /** Copies the {@code c3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix3x3.Buffer getC3(FloatBuffer dst) { gather(AIMatrix3x3.C3, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code a1} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putA1(float[] src) { scatter(AIMatrix3x3.A1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a1} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putA1(FloatBuffer src) { scatter(AIMatrix3x3.A1, src); return this; }
+        /** Copies the values in the specified array to the {@code a2} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putA2(float[] src) { scatter(AIMatrix3x3.A2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a2} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putA2(FloatBuffer src) { scatter(AIMatrix3x3.A2, src); return this; }
+        /** Copies the values in the specified array to the {@code a3} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putA3(float[] src) { scatter(AIMatrix3x3.A3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a3} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putA3(FloatBuffer src) { scatter(AIMatrix3x3.A3, src); return this; }
+        /** Copies the values in the specified array to the {@code b1} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putB1(float[] src) { scatter(AIMatrix3x3.B1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b1} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putB1(FloatBuffer src) { scatter(AIMatrix3x3.B1, src); return this; }
+        /** Copies the values in the specified array to the {@code b2} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putB2(float[] src) { scatter(AIMatrix3x3.B2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b2} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putB2(FloatBuffer src) { scatter(AIMatrix3x3.B2, src); return this; }
+        /** Copies the values in the specified array to the {@code b3} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putB3(float[] src) { scatter(AIMatrix3x3.B3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b3} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putB3(FloatBuffer src) { scatter(AIMatrix3x3.B3, src); return this; }
+        /** Copies the values in the specified array to the {@code c1} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putC1(float[] src) { scatter(AIMatrix3x3.C1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c1} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putC1(FloatBuffer src) { scatter(AIMatrix3x3.C1, src); return this; }
+        /** Copies the values in the specified array to the {@code c2} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putC2(float[] src) { scatter(AIMatrix3x3.C2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c2} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putC2(FloatBuffer src) { scatter(AIMatrix3x3.C2, src); return this; }
+        /** Copies the values in the specified array to the {@code c3} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putC3(float[] src) { scatter(AIMatrix3x3.C3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c3} field of the structs between the current position and limit. */
+        public AIMatrix3x3.Buffer putC3(FloatBuffer src) { scatter(AIMatrix3x3.C3, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -342,6 +342,24 @@ public class AIMatrix4x4 extends Struct implements NativeResource {
         return wrap(AIMatrix4x4.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMatrix4x4} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMatrix4x4 malloc(MemoryArena arena) {
+        return wrap(AIMatrix4x4.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMatrix4x4} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMatrix4x4 calloc(MemoryArena arena) {
+        return wrap(AIMatrix4x4.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMatrix4x4.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -380,6 +398,26 @@ public class AIMatrix4x4 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMatrix4x4.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMatrix4x4.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMatrix4x4.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMatrix4x4.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #a1}. */
@@ -552,6 +590,136 @@ public class AIMatrix4x4 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code d4} field. */
         public AIMatrix4x4.Buffer d4(float value) { AIMatrix4x4.nd4(address(), value); return this; }
 
+        /** Copies the {@code a1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getA1(float[] dst) { gather(AIMatrix4x4.A1, dst); return this; }
+        /** Copies the {@code a1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getA1(FloatBuffer dst) { gather(AIMatrix4x4.A1, dst); return this; }
+        /** Copies the {@code a2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getA2(float[] dst) { gather(AIMatrix4x4.A2, dst); return this; }
+        /** Copies the {@code a2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getA2(FloatBuffer dst) { gather(AIMatrix4x4.A2, dst); return this; }
+        /** Copies the {@code a3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getA3(float[] dst) { gather(AIMatrix4x4.A3, dst); return this; }
+        /** Copies the {@code a3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getA3(FloatBuffer dst) { gather(AIMatrix4x4.A3, dst); return this; }
+        /** Copies the {@code a4} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getA4(float[] dst) { gather(AIMatrix4x4.A4, dst); return this; }
+        /** Copies the {@code a4} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getA4(FloatBuffer dst) { gather(AIMatrix4x4.A4, dst); return this; }
+        /** Copies the {@code b1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getB1(float[] dst) { gather(AIMatrix4x4.B1, dst); return this; }
+        /** Copies the {@code b1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getB1(FloatBuffer dst) { gather(AIMatrix4x4.B1, dst); return this; }
+        /** Copies the {@code b2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getB2(float[] dst) { gather(AIMatrix4x4.B2, dst); return this; }
+        /** Copies the {@code b2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getB2(FloatBuffer dst) { gather(AIMatrix4x4.B2, dst); return this; }
+        /** Copies the {@code b3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getB3(float[] dst) { gather(AIMatrix4x4.B3, dst); return this; }
+        /** Copies the {@code b3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getB3(FloatBuffer dst) { gather(AIMatrix4x4.B3, dst); return this; }
+        /** Copies the {@code b4} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getB4(float[] dst) { gather(AIMatrix4x4.B4, dst); return this; }
+        /** Copies the {@code b4} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getB4(FloatBuffer dst) { gather(AIMatrix4x4.B4, dst); return this; }
+        /** Copies the {@code c1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getC1(float[] dst) { gather(AIMatrix4x4.C1, dst); return this; }
+        /** Copies the {@code c1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getC1(FloatBuffer dst) { gather(AIMatrix4x4.C1, dst); return this; }
+        /** Copies the {@code c2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getC2(float[] dst) { gather(AIMatrix4x4.C2, dst); return this; }
+        /** Copies the {@code c2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getC2(FloatBuffer dst) { gather(AIMatrix4x4.C2, dst); return this; }
+        /** Copies the {@code c3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getC3(float[] dst) { gather(AIMatrix4x4.C3, dst); return this; }
+        /** Copies the {@code c3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getC3(FloatBuffer dst) { gather(AIMatrix4x4.C3, dst); return this; }
+        /** Copies the {@code c4} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getC4(float[] dst) { gather(AIMatrix4x4.C4, dst); return this; }
+        /** Copies the {@code c4} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getC4(FloatBuffer dst) { gather(AIMatrix4x4.C4, dst); return this; }
+        /** Copies the {@code d1} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getD1(float[] dst) { gather(AIMatrix4x4.D1, dst); return this; }
+        /** Copies the {@code d1} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getD1(FloatBuffer dst) { gather(AIMatrix4x4.D1, dst); return this; }
+        /** Copies the {@code d2} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getD2(float[] dst) { gather(AIMatrix4x4.D2, dst); return this; }
+        /** Copies the {@code d2} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getD2(FloatBuffer dst) { gather(AIMatrix4x4.D2, dst); return this; }
+        /** Copies the {@code d3} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getD3(float[] dst) { gather(AIMatrix4x4.D3, dst); return this; }
+        /** Copies the {@code d3} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getD3(FloatBuffer dst) { gather(AIMatrix4x4.D3, dst); return this; }
+        /** Copies the {@code d4} field of the structs between the current position and limit to the specified array. */
+        public AIMatrix4x4.Buffer getD4(float[] dst) { gather(AIMatrix4x4.D4, dst); return this; }
+        /** Copies the {@code d4} field of the structs between the current position and limit to the specified buffer. */
+        public AIMatrix4x4.Buffer getD4(FloatBuffer dst) { gather(AIMatrix4x4.D4, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code a1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA1(float[] src) { scatter(AIMatrix4x4.A1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA1(FloatBuffer src) { scatter(AIMatrix4x4.A1, src); return this; }
+        /** Copies the values in the specified array to the {@code a2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA2(float[] src) { scatter(AIMatrix4x4.A2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA2(FloatBuffer src) { scatter(AIMatrix4x4.A2, src); return this; }
+        /** Copies the values in the specified array to the {@code a3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA3(float[] src) { scatter(AIMatrix4x4.A3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA3(FloatBuffer src) { scatter(AIMatrix4x4.A3, src); return this; }
+        /** Copies the values in the specified array to the {@code a4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA4(float[] src) { scatter(AIMatrix4x4.A4, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putA4(FloatBuffer src) { scatter(AIMatrix4x4.A4, src); return this; }
+        /** Copies the values in the specified array to the {@code b1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB1(float[] src) { scatter(AIMatrix4x4.B1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB1(FloatBuffer src) { scatter(AIMatrix4x4.B1, src); return this; }
+        /** Copies the values in the specified array to the {@code b2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB2(float[] src) { scatter(AIMatrix4x4.B2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB2(FloatBuffer src) { scatter(AIMatrix4x4.B2, src); return this; }
+        /** Copies the values in the specified array to the {@code b3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB3(float[] src) { scatter(AIMatrix4x4.B3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB3(FloatBuffer src) { scatter(AIMatrix4x4.B3, src); return this; }
+        /** Copies the values in the specified array to the {@code b4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB4(float[] src) { scatter(AIMatrix4x4.B4, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putB4(FloatBuffer src) { scatter(AIMatrix4x4.B4, src); return this; }
+        /** Copies the values in the specified array to the {@code c1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC1(float[] src) { scatter(AIMatrix4x4.C1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC1(FloatBuffer src) { scatter(AIMatrix4x4.C1, src); return this; }
+        /** Copies the values in the specified array to the {@code c2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC2(float[] src) { scatter(AIMatrix4x4.C2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC2(FloatBuffer src) { scatter(AIMatrix4x4.C2, src); return this; }
+        /** Copies the values in the specified array to the {@code c3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC3(float[] src) { scatter(AIMatrix4x4.C3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC3(FloatBuffer src) { scatter(AIMatrix4x4.C3, src); return this; }
+        /** Copies the values in the specified array to the {@code c4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC4(float[] src) { scatter(AIMatrix4x4.C4, src); return this; }
+        /** Copies the values in the specified buffer to the {@code c4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putC4(FloatBuffer src) { scatter(AIMatrix4x4.C4, src); return this; }
+        /** Copies the values in the specified array to the {@code d1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD1(float[] src) { scatter(AIMatrix4x4.D1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code d1} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD1(FloatBuffer src) { scatter(AIMatrix4x4.D1, src); return this; }
+        /** Copies the values in the specified array to the {@code d2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD2(float[] src) { scatter(AIMatrix4x4.D2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code d2} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD2(FloatBuffer src) { scatter(AIMatrix4x4.D2, src); return this; }
+        /** Copies the values in the specified array to the {@code d3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD3(float[] src) { scatter(AIMatrix4x4.D3, src); return this; }
+        /** Copies the values in the specified buffer to the {@code d3} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD3(FloatBuffer src) { scatter(AIMatrix4x4.D3, src); return this; }
+        /** Copies the values in the specified array to the {@code d4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD4(float[] src) { scatter(AIMatrix4x4.D4, src); return this; }
+        /** Copies the values in the specified buffer to the {@code d4} field of the structs between the current position and limit. */
+        public AIMatrix4x4.Buffer putD4(FloatBuffer src) { scatter(AIMatrix4x4.D4, src); return this; }
+
     }
 
 }
\ No newline at end of file
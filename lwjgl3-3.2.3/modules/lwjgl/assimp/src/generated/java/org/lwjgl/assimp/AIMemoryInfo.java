@@ -231,6 +231,24 @@ public class AIMemoryInfo extends Struct implements NativeResource {
         return wrap(AIMemoryInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMemoryInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMemoryInfo malloc(MemoryArena arena) {
+        return wrap(AIMemoryInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMemoryInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMemoryInfo calloc(MemoryArena arena) {
+        return wrap(AIMemoryInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMemoryInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class AIMemoryInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMemoryInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMemoryInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #textures}. */
@@ -351,6 +389,39 @@ public class AIMemoryInfo extends Struct implements NativeResource {
         @NativeType("unsigned int")
         public int total() { return AIMemoryInfo.ntotal(address()); }
 
+        /** Copies the {@code textures} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getTextures(int[] dst) { gather(AIMemoryInfo.TEXTURES, dst); return this; }
+        /** Copies the {@code textures} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getTextures(IntBuffer dst) { gather(AIMemoryInfo.TEXTURES, dst); return this; }
+        /** Copies the {@code materials} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getMaterials(int[] dst) { gather(AIMemoryInfo.MATERIALS, dst); return this; }
+        /** Copies the {@code materials} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getMaterials(IntBuffer dst) { gather(AIMemoryInfo.MATERIALS, dst); return this; }
+        /** Copies the {@code meshes} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getMeshes(int[] dst) { gather(AIMemoryInfo.MESHES, dst); return this; }
+        /** Copies the {@code meshes} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getMeshes(IntBuffer dst) { gather(AIMemoryInfo.MESHES, dst); return this; }
+        /** Copies the {@code nodes} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getNodes(int[] dst) { gather(AIMemoryInfo.NODES, dst); return this; }
+        /** Copies the {@code nodes} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getNodes(IntBuffer dst) { gather(AIMemoryInfo.NODES, dst); return this; }
+        /** Copies the {@code animations} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getAnimations(int[] dst) { gather(AIMemoryInfo.ANIMATIONS, dst); return this; }
+        /** Copies the {@code animations} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getAnimations(IntBuffer dst) { gather(AIMemoryInfo.ANIMATIONS, dst); return this; }
+        /** Copies the {@code cameras} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getCameras(int[] dst) { gather(AIMemoryInfo.CAMERAS, dst); return this; }
+        /** Copies the {@code cameras} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getCameras(IntBuffer dst) { gather(AIMemoryInfo.CAMERAS, dst); return this; }
+        /** Copies the {@code lights} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getLights(int[] dst) { gather(AIMemoryInfo.LIGHTS, dst); return this; }
+        /** Copies the {@code lights} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getLights(IntBuffer dst) { gather(AIMemoryInfo.LIGHTS, dst); return this; }
+        /** Copies the {@code total} field of the structs between the current position and limit to the specified array. */
+        public AIMemoryInfo.Buffer getTotal(int[] dst) { gather(AIMemoryInfo.TOTAL, dst); return this; }
+        /** Copies the {@code total} field of the structs between the current position and limit to the specified buffer. */
+        public AIMemoryInfo.Buffer getTotal(IntBuffer dst) { gather(AIMemoryInfo.TOTAL, dst); return this; }
+
     }
 
 }
\ No newline at end of file
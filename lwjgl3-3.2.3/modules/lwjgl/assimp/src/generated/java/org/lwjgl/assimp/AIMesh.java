@@ -494,6 +494,24 @@ public class AIMesh extends Struct implements NativeResource {
         return wrap(AIMesh.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMesh} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMesh malloc(MemoryArena arena) {
+        return wrap(AIMesh.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMesh} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMesh calloc(MemoryArena arena) {
+        return wrap(AIMesh.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMesh.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -532,6 +550,26 @@ public class AIMesh extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMesh.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMesh.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMesh.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMesh.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mPrimitiveTypes}. */
@@ -835,6 +873,52 @@ public class AIMesh extends Struct implements NativeResource {
         /** Passes the {@code mAABB} field to the specified {@link java.util.function.Consumer Consumer}. */
         public AIMesh.Buffer mAABB(java.util.function.Consumer<AIAABB> consumer) { consumer.accept(mAABB()); return this; }
 
+        /** Copies the {@code mPrimitiveTypes} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMPrimitiveTypes(int[] dst) { gather(AIMesh.MPRIMITIVETYPES, dst); return this; }
+        /** Copies the {@code mPrimitiveTypes} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMPrimitiveTypes(IntBuffer dst) { gather(AIMesh.MPRIMITIVETYPES, dst); return this; }
+        /** Copies the {@code mNumVertices} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMNumVertices(int[] dst) { gather(AIMesh.MNUMVERTICES, dst); return this; }
+        /** Copies the {@code mNumVertices} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMNumVertices(IntBuffer dst) { gather(AIMesh.MNUMVERTICES, dst); return this; }
+        /** Copies the {@code mNumFaces} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMNumFaces(int[] dst) { gather(AIMesh.MNUMFACES, dst); return this; }
+        /** Copies the {@code mNumFaces} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMNumFaces(IntBuffer dst) { gather(AIMesh.MNUMFACES, dst); return this; }
+        /** Copies the {@code mNumBones} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMNumBones(int[] dst) { gather(AIMesh.MNUMBONES, dst); return this; }
+        /** Copies the {@code mNumBones} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMNumBones(IntBuffer dst) { gather(AIMesh.MNUMBONES, dst); return this; }
+        /** Copies the {@code mMaterialIndex} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMMaterialIndex(int[] dst) { gather(AIMesh.MMATERIALINDEX, dst); return this; }
+        /** Copies the {@code mMaterialIndex} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMMaterialIndex(IntBuffer dst) { gather(AIMesh.MMATERIALINDEX, dst); return this; }
+        /** Copies the {@code mNumAnimMeshes} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMNumAnimMeshes(int[] dst) { gather(AIMesh.MNUMANIMMESHES, dst); return this; }
+        /** Copies the {@code mNumAnimMeshes} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMNumAnimMeshes(IntBuffer dst) { gather(AIMesh.MNUMANIMMESHES, dst); return this; }
+        /** Copies the {@code mMethod} field of the structs between the current position and limit to the specified array. */
+        public AIMesh.Buffer getMMethod(int[] dst) { gather(AIMesh.MMETHOD, dst); return this; }
+        /** Copies the {@code mMethod} field of the structs between the current position and limit to the specified buffer. */
+        public AIMesh.Buffer getMMethod(IntBuffer dst) { gather(AIMesh.MMETHOD, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mPrimitiveTypes} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMPrimitiveTypes(int[] src) { scatter(AIMesh.MPRIMITIVETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mPrimitiveTypes} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMPrimitiveTypes(IntBuffer src) { scatter(AIMesh.MPRIMITIVETYPES, src); return this; }
+        /** Copies the values in the specified array to the {@code mNumVertices} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMNumVertices(int[] src) { scatter(AIMesh.MNUMVERTICES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mNumVertices} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMNumVertices(IntBuffer src) { scatter(AIMesh.MNUMVERTICES, src); return this; }
+        /** Copies the values in the specified array to the {@code mMaterialIndex} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMMaterialIndex(int[] src) { scatter(AIMesh.MMATERIALINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mMaterialIndex} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMMaterialIndex(IntBuffer src) { scatter(AIMesh.MMATERIALINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code mMethod} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMMethod(int[] src) { scatter(AIMesh.MMETHOD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mMethod} field of the structs between the current position and limit. */
+        public AIMesh.Buffer putMMethod(IntBuffer src) { scatter(AIMesh.MMETHOD, src); return this; }
+
     }
 
 }
\ No newline at end of file
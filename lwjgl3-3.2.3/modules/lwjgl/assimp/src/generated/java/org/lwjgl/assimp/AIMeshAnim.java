@@ -226,6 +226,24 @@ public class AIMeshAnim extends Struct implements NativeResource {
         return wrap(AIMeshAnim.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMeshAnim} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshAnim malloc(MemoryArena arena) {
+        return wrap(AIMeshAnim.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMeshAnim} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshAnim calloc(MemoryArena arena) {
+        return wrap(AIMeshAnim.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMeshAnim.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -264,6 +282,26 @@ public class AIMeshAnim extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMeshAnim.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshAnim.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMeshAnim.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshAnim.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -356,6 +394,11 @@ public class AIMeshAnim extends Struct implements NativeResource {
         /** Sets the address of the specified {@link AIMeshKey.Buffer} to the {@code mKeys} field. */
         public AIMeshAnim.Buffer mKeys(@NativeType("struct aiMeshKey *") AIMeshKey.Buffer value) { AIMeshAnim.nmKeys(address(), value); return this; }
 
+        /** Copies the {@code mNumKeys} field of the structs between the current position and limit to the specified array. */
+        public AIMeshAnim.Buffer getMNumKeys(int[] dst) { gather(AIMeshAnim.MNUMKEYS, dst); return this; }
+        /** Copies the {@code mNumKeys} field of the structs between the current position and limit to the specified buffer. */
+        public AIMeshAnim.Buffer getMNumKeys(IntBuffer dst) { gather(AIMeshAnim.MNUMKEYS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
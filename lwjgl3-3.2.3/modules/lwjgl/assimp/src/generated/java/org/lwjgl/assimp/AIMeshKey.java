@@ -212,6 +212,24 @@ public class AIMeshKey extends Struct implements NativeResource {
         return wrap(AIMeshKey.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMeshKey} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshKey malloc(MemoryArena arena) {
+        return wrap(AIMeshKey.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMeshKey} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshKey calloc(MemoryArena arena) {
+        return wrap(AIMeshKey.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMeshKey.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -250,6 +268,26 @@ public class AIMeshKey extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMeshKey.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshKey.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMeshKey.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshKey.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mTime}. */
@@ -311,6 +349,24 @@ public class AIMeshKey extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mValue} field. */
         public AIMeshKey.Buffer mValue(@NativeType("unsigned int") int value) { AIMeshKey.nmValue(address(), value); return this; }
 
+        /** Copies the {@code mTime} field of the structs between the current position and limit to the specified array. */
+        public AIMeshKey.Buffer getMTime(double[] dst) { gather(AIMeshKey.MTIME, dst); return this; }
+        /** Copies the {@code mTime} field of the structs between the current position and limit to the specified buffer. */
+        public AIMeshKey.Buffer getMTime(DoubleBuffer dst) { gather(AIMeshKey.MTIME, dst); return this; }
+        /** Copies the {@code mValue} field of the structs between the current position and limit to the specified array. */
+        public AIMeshKey.Buffer getMValue(int[] dst) { gather(AIMeshKey.MVALUE, dst); return this; }
+        /** Copies the {@code mValue} field of the structs between the current position and limit to the specified buffer. */
+        public AIMeshKey.Buffer getMValue(IntBuffer dst) { gather(AIMeshKey.MVALUE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mTime} field of the structs between the current position and limit. */
+        public AIMeshKey.Buffer putMTime(double[] src) { scatter(AIMeshKey.MTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mTime} field of the structs between the current position and limit. */
+        public AIMeshKey.Buffer putMTime(DoubleBuffer src) { scatter(AIMeshKey.MTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code mValue} field of the structs between the current position and limit. */
+        public AIMeshKey.Buffer putMValue(int[] src) { scatter(AIMeshKey.MVALUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mValue} field of the structs between the current position and limit. */
+        public AIMeshKey.Buffer putMValue(IntBuffer src) { scatter(AIMeshKey.MVALUE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,24 @@ public class AIMeshMorphAnim extends Struct implements NativeResource {
         return wrap(AIMeshMorphAnim.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMeshMorphAnim} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshMorphAnim malloc(MemoryArena arena) {
+        return wrap(AIMeshMorphAnim.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMeshMorphAnim} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshMorphAnim calloc(MemoryArena arena) {
+        return wrap(AIMeshMorphAnim.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMeshMorphAnim.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class AIMeshMorphAnim extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMeshMorphAnim.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshMorphAnim.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMeshMorphAnim.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshMorphAnim.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -357,6 +395,11 @@ public class AIMeshMorphAnim extends Struct implements NativeResource {
         /** Sets the address of the specified {@link AIMeshMorphKey.Buffer} to the {@code mKeys} field. */
         public AIMeshMorphAnim.Buffer mKeys(@NativeType("struct aiMeshMorphKey *") AIMeshMorphKey.Buffer value) { AIMeshMorphAnim.nmKeys(address(), value); return this; }
 
+        /** Copies the {@code mNumKeys} field of the structs between the current position and limit to the specified array. */
+        public AIMeshMorphAnim.Buffer getMNumKeys(int[] dst) { gather(AIMeshMorphAnim.MNUMKEYS, dst); return this; }
+        /** Copies the {@code mNumKeys} field of the structs between the current position and limit to the specified buffer. */
+        public AIMeshMorphAnim.Buffer getMNumKeys(IntBuffer dst) { gather(AIMeshMorphAnim.MNUMKEYS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
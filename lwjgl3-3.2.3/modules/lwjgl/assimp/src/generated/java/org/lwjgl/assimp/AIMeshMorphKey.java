@@ -235,6 +235,24 @@ public class AIMeshMorphKey extends Struct implements NativeResource {
         return wrap(AIMeshMorphKey.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMeshMorphKey} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshMorphKey malloc(MemoryArena arena) {
+        return wrap(AIMeshMorphKey.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMeshMorphKey} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMeshMorphKey calloc(MemoryArena arena) {
+        return wrap(AIMeshMorphKey.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMeshMorphKey.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class AIMeshMorphKey extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMeshMorphKey.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshMorphKey.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMeshMorphKey.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMeshMorphKey.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mTime}. */
@@ -374,6 +412,24 @@ public class AIMeshMorphKey extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mNumValuesAndWeights} field. */
         public AIMeshMorphKey.Buffer mNumValuesAndWeights(@NativeType("unsigned int") int value) { AIMeshMorphKey.nmNumValuesAndWeights(address(), value); return this; }
 
+        /** Copies the {@code mTime} field of the structs between the current position and limit to the specified array. */
+        public AIMeshMorphKey.Buffer getMTime(double[] dst) { gather(AIMeshMorphKey.MTIME, dst); return this; }
+        /** Copies the {@code mTime} field of the structs between the current position and limit to the specified buffer. */
+        public AIMeshMorphKey.Buffer getMTime(DoubleBuffer dst) { gather(AIMeshMorphKey.MTIME, dst); return this; }
+        /** Copies the {@code mNumValuesAndWeights} field of the structs between the current position and limit to the specified array. */
+        public AIMeshMorphKey.Buffer getMNumValuesAndWeights(int[] dst) { gather(AIMeshMorphKey.MNUMVALUESANDWEIGHTS, dst); return this; }
+        /** Copies the {@code mNumValuesAndWeights} field of the structs between the current position and limit to the specified buffer. */
+        public AIMeshMorphKey.Buffer getMNumValuesAndWeights(IntBuffer dst) { gather(AIMeshMorphKey.MNUMVALUESANDWEIGHTS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mTime} field of the structs between the current position and limit. */
+        public AIMeshMorphKey.Buffer putMTime(double[] src) { scatter(AIMeshMorphKey.MTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mTime} field of the structs between the current position and limit. */
+        public AIMeshMorphKey.Buffer putMTime(DoubleBuffer src) { scatter(AIMeshMorphKey.MTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code mNumValuesAndWeights} field of the structs between the current position and limit. */
+        public AIMeshMorphKey.Buffer putMNumValuesAndWeights(int[] src) { scatter(AIMeshMorphKey.MNUMVALUESANDWEIGHTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mNumValuesAndWeights} field of the structs between the current position and limit. */
+        public AIMeshMorphKey.Buffer putMNumValuesAndWeights(IntBuffer src) { scatter(AIMeshMorphKey.MNUMVALUESANDWEIGHTS, src); return this; }
+
     }
 
 }
\ No newline at end of file
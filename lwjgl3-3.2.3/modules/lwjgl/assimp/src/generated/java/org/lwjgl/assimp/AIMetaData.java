@@ -222,6 +222,24 @@ public class AIMetaData extends Struct implements NativeResource {
         return wrap(AIMetaData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMetaData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMetaData malloc(MemoryArena arena) {
+        return wrap(AIMetaData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMetaData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMetaData calloc(MemoryArena arena) {
+        return wrap(AIMetaData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMetaData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class AIMetaData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMetaData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMetaData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMetaData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMetaData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mNumProperties}. */
@@ -356,6 +394,16 @@ public class AIMetaData extends Struct implements NativeResource {
         /** Sets the address of the specified {@link AIMetaDataEntry.Buffer} to the {@code mValues} field. */
         public AIMetaData.Buffer mValues(@NativeType("struct aiMetadataEntry *") AIMetaDataEntry.Buffer value) { AIMetaData.nmValues(address(), value); return this; }
 
+        /** Copies the {@code mNumProperties} field of the structs between the current position and limit to the specified array. */
+        public AIMetaData.Buffer getMNumProperties(int[] dst) { gather(AIMetaData.MNUMPROPERTIES, dst); return this; }
+        /** Copies the {@code mNumProperties} field of the structs between the current position and limit to the specified buffer. */
+        public AIMetaData.Buffer getMNumProperties(IntBuffer dst) { gather(AIMetaData.MNUMPROPERTIES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mNumProperties} field of the structs between the current position and limit. */
+        public AIMetaData.Buffer putMNumProperties(int[] src) { scatter(AIMetaData.MNUMPROPERTIES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mNumProperties} field of the structs between the current position and limit. */
+        public AIMetaData.Buffer putMNumProperties(IntBuffer src) { scatter(AIMetaData.MNUMPROPERTIES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -207,6 +207,24 @@ public class AIMetaDataEntry extends Struct implements NativeResource {
         return wrap(AIMetaDataEntry.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIMetaDataEntry} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMetaDataEntry malloc(MemoryArena arena) {
+        return wrap(AIMetaDataEntry.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIMetaDataEntry} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIMetaDataEntry calloc(MemoryArena arena) {
+        return wrap(AIMetaDataEntry.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIMetaDataEntry.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -245,6 +263,26 @@ public class AIMetaDataEntry extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIMetaDataEntry.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMetaDataEntry.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIMetaDataEntry.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIMetaDataEntry.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mType}. */
@@ -332,6 +370,16 @@ public class AIMetaDataEntry extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code mData} field. */
         public AIMetaDataEntry.Buffer mData(@NativeType("void *") ByteBuffer value) { AIMetaDataEntry.nmData(address(), value); return this; }
 
+        /** Copies the {@code mType} field of the structs between the current position and limit to the specified array. */
+        public AIMetaDataEntry.Buffer getMType(int[] dst) { gather(AIMetaDataEntry.MTYPE, dst); return this; }
+        /** Copies the {@code mType} field of the structs between the current position and limit to the specified buffer. */
+        public AIMetaDataEntry.Buffer getMType(IntBuffer dst) { gather(AIMetaDataEntry.MTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mType} field of the structs between the current position and limit. */
+        public AIMetaDataEntry.Buffer putMType(int[] src) { scatter(AIMetaDataEntry.MTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mType} field of the structs between the current position and limit. */
+        public AIMetaDataEntry.Buffer putMType(IntBuffer src) { scatter(AIMetaDataEntry.MTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
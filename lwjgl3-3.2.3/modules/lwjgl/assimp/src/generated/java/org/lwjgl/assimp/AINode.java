@@ -304,6 +304,24 @@ public class AINode extends Struct implements NativeResource {
         return wrap(AINode.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AINode} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AINode malloc(MemoryArena arena) {
+        return wrap(AINode.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AINode} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AINode calloc(MemoryArena arena) {
+        return wrap(AINode.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AINode.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -342,6 +360,26 @@ public class AINode extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AINode.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AINode.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AINode.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AINode.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mName}. */
@@ -492,6 +530,15 @@ public class AINode extends Struct implements NativeResource {
         /** Sets the address of the specified {@link AIMetaData} to the {@code mMetadata} field. */
         public AINode.Buffer mMetadata(@Nullable @NativeType("struct aiMetadata *") AIMetaData value) { AINode.nmMetadata(address(), value); return this; }
 
+        /** Copies the {@code mNumChildren} field of the structs between the current position and limit to the specified array. */
+        public AINode.Buffer getMNumChildren(int[] dst) { gather(AINode.MNUMCHILDREN, dst); return this; }
+        /** Copies the {@code mNumChildren} field of the structs between the current position and limit to the specified buffer. */
+        public AINode.Buffer getMNumChildren(IntBuffer dst) { gather(AINode.MNUMCHILDREN, dst); return this; }
+        /** Copies the {@code mNumMeshes} field of the structs between the current position and limit to the specified array. */
+        public AINode.Buffer getMNumMeshes(int[] dst) { gather(AINode.MNUMMESHES, dst); return this; }
+        /** Copies the {@code mNumMeshes} field of the structs between the current position and limit to the specified buffer. */
+        public AINode.Buffer getMNumMeshes(IntBuffer dst) { gather(AINode.MNUMMESHES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
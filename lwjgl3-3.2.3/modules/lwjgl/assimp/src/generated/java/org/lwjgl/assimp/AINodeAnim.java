@@ -307,6 +307,24 @@ public class AINodeAnim extends Struct implements NativeResource {
         return wrap(AINodeAnim.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AINodeAnim} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AINodeAnim malloc(MemoryArena arena) {
+        return wrap(AINodeAnim.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AINodeAnim} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AINodeAnim calloc(MemoryArena arena) {
+        return wrap(AINodeAnim.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AINodeAnim.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -345,6 +363,26 @@ public class AINodeAnim extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AINodeAnim.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AINodeAnim.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AINodeAnim.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AINodeAnim.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mNodeName}. */
@@ -498,6 +536,36 @@ public class AINodeAnim extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mPostState} field. */
         public AINodeAnim.Buffer mPostState(@NativeType("aiAnimBehaviour") int value) { AINodeAnim.nmPostState(address(), value); return this; }
 
+        /** Copies the {@code mNumPositionKeys} field of the structs between the current position and limit to the specified array. */
+        public AINodeAnim.Buffer getMNumPositionKeys(int[] dst) { gather(AINodeAnim.MNUMPOSITIONKEYS, dst); return this; }
+        /** Copies the {@code mNumPositionKeys} field of the structs between the current position and limit to the specified buffer. */
+        public AINodeAnim.Buffer getMNumPositionKeys(IntBuffer dst) { gather(AINodeAnim.MNUMPOSITIONKEYS, dst); return this; }
+        /** Copies the {@code mNumRotationKeys} field of the structs between the current position and limit to the specified array. */
+        public AINodeAnim.Buffer getMNumRotationKeys(int[] dst) { gather(AINodeAnim.MNUMROTATIONKEYS, dst); return this; }
+        /** Copies the {@code mNumRotationKeys} field of the structs between the current position and limit to the specified buffer. */
+        public AINodeAnim.Buffer getMNumRotationKeys(IntBuffer dst) { gather(AINodeAnim.MNUMROTATIONKEYS, dst); return this; }
+        /** Copies the {@code mNumScalingKeys} field of the structs between the current position and limit to the specified array. */
+        public AINodeAnim.Buffer getMNumScalingKeys(int[] dst) { gather(AINodeAnim.MNUMSCALINGKEYS, dst); return this; }
+        /** Copies the {@code mNumScalingKeys} field of the structs between the current position and limit to the specified buffer. */
+        public AINodeAnim.Buffer getMNumScalingKeys(IntBuffer dst) { gather(AINodeAnim.MNUMSCALINGKEYS, dst); return this; }
+        /** Copies the {@code mPreState} field of the structs between the current position and limit to the specified array. */
+        public AINodeAnim.Buffer getMPreState(int[] dst) { gather(AINodeAnim.MPRESTATE, dst); return this; }
+        /** Copies the {@code mPreState} field of the structs between the current position and limit to the specified buffer. */
+        public AINodeAnim.Buffer getMPreState(IntBuffer dst) { gather(AINodeAnim.MPRESTATE, dst); return this; }
+        /** Copies the {@code mPostState} field of the structs between the current position and limit to the specified array. */
+        public AINodeAnim.Buffer getMPostState(int[] dst) { gather(AINodeAnim.MPOSTSTATE, dst); return this; }
+        /** Copies the {@code mPostState} field of the structs between the current position and limit to the specified buffer. */
+        public AINodeAnim.Buffer getMPostState(IntBuffer dst) { gather(AINodeAnim.MPOSTSTATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mPreState} field of the structs between the current position and limit. */
+        public AINodeAnim.Buffer putMPreState(int[] src) { scatter(AINodeAnim.MPRESTATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mPreState} field of the structs between the current position and limit. */
+        public AINodeAnim.Buffer putMPreState(IntBuffer src) { scatter(AINodeAnim.MPRESTATE, src); return this; }
+        /** Copies the values in the specified array to the {@code mPostState} field of the structs between the current position and limit. */
+        public AINodeAnim.Buffer putMPostState(int[] src) { scatter(AINodeAnim.MPOSTSTATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mPostState} field of the structs between the current position and limit. */
+        public AINodeAnim.Buffer putMPostState(IntBuffer src) { scatter(AINodeAnim.MPOSTSTATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -184,6 +184,24 @@ public class AIPropertyStore extends Struct implements NativeResource {
         return wrap(AIPropertyStore.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIPropertyStore} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIPropertyStore malloc(MemoryArena arena) {
+        return wrap(AIPropertyStore.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIPropertyStore} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIPropertyStore calloc(MemoryArena arena) {
+        return wrap(AIPropertyStore.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIPropertyStore.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -222,6 +240,26 @@ public class AIPropertyStore extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIPropertyStore.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIPropertyStore.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIPropertyStore.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIPropertyStore.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sentinel}. */
@@ -275,6 +313,16 @@ public class AIPropertyStore extends Struct implements NativeResource {
         /** Sets the specified value to the {@code sentinel} field. */
         public AIPropertyStore.Buffer sentinel(@NativeType("char") byte value) { AIPropertyStore.nsentinel(address(), value); return this; }
 
+        /** Copies the {@code sentinel} field of the structs between the current position and limit to the specified array. */
+        public AIPropertyStore.Buffer getSentinel(byte[] dst) { gather(AIPropertyStore.SENTINEL, dst); return this; }
+        /** Copies the {@code sentinel} field of the structs between the current position and limit to the specified buffer. */
+        public AIPropertyStore.Buffer getSentinel(ByteBuffer dst) { gather(AIPropertyStore.SENTINEL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sentinel} field of the structs between the current position and limit. */
+        public AIPropertyStore.Buffer putSentinel(byte[] src) { scatter(AIPropertyStore.SENTINEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sentinel} field of the structs between the current position and limit. */
+        public AIPropertyStore.Buffer putSentinel(ByteBuffer src) { scatter(AIPropertyStore.SENTINEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -212,6 +212,24 @@ public class AIQuatKey extends Struct implements NativeResource {
         return wrap(AIQuatKey.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIQuatKey} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIQuatKey malloc(MemoryArena arena) {
+        return wrap(AIQuatKey.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIQuatKey} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIQuatKey calloc(MemoryArena arena) {
+        return wrap(AIQuatKey.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIQuatKey.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -250,6 +268,26 @@ public class AIQuatKey extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIQuatKey.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIQuatKey.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIQuatKey.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIQuatKey.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mTime}. */
@@ -313,6 +351,16 @@ public class AIQuatKey extends Struct implements NativeResource {
         /** Passes the {@code mValue} field to the specified {@link java.util.function.Consumer Consumer}. */
         public AIQuatKey.Buffer mValue(java.util.function.Consumer<AIQuaternion> consumer) { consumer.accept(mValue()); return this; }
 
+        /** Copies the {@code mTime} field of the structs between the current position and limit to the specified array. */
+        public AIQuatKey.Buffer getMTime(double[] dst) { gather(AIQuatKey.MTIME, dst); return this; }
+        /** Copies the {@code mTime} field of the structs between the current position and limit to the specified buffer. */
+        public AIQuatKey.Buffer getMTime(DoubleBuffer dst) { gather(AIQuatKey.MTIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mTime} field of the structs between the current position and limit. */
+        public AIQuatKey.Buffer putMTime(double[] src) { scatter(AIQuatKey.MTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mTime} field of the structs between the current position and limit. */
+        public AIQuatKey.Buffer putMTime(DoubleBuffer src) { scatter(AIQuatKey.MTIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
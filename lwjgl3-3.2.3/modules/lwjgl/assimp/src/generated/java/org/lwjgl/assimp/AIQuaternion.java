@@ -231,6 +231,24 @@ public class AIQuaternion extends Struct implements NativeResource {
         return wrap(AIQuaternion.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIQuaternion} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIQuaternion malloc(MemoryArena arena) {
+        return wrap(AIQuaternion.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIQuaternion} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIQuaternion calloc(MemoryArena arena) {
+        return wrap(AIQuaternion.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIQuaternion.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class AIQuaternion extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIQuaternion.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIQuaternion.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIQuaternion.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIQuaternion.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #w}. */
@@ -345,6 +383,40 @@ public class AIQuaternion extends Struct implements NativeResource {
         /** Sets the specified value to the {@code z} field. */
         public AIQuaternion.Buffer z(float value) { AIQuaternion.nz(address(), value); return this; }
 
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public AIQuaternion.Buffer getW(float[] dst) { gather(AIQuaternion.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public AIQuaternion.Buffer getW(FloatBuffer dst) { gather(AIQuaternion.W, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public AIQuaternion.Buffer getX(float[] dst) { gather(AIQuaternion.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public AIQuaternion.Buffer getX(FloatBuffer dst) { gather(AIQuaternion.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public AIQuaternion.Buffer getY(float[] dst) { gather(AIQuaternion.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public AIQuaternion.Buffer getY(FloatBuffer dst) { gather(AIQuaternion.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public AIQuaternion.Buffer getZ(float[] dst) { gather(AIQuaternion.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public AIQuaternion.Buffer getZ(FloatBuffer dst) { gather(AIQuaternion.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putW(float[] src) { scatter(AIQuaternion.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putW(FloatBuffer src) { scatter(AIQuaternion.W, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putX(float[] src) { scatter(AIQuaternion.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putX(FloatBuffer src) { scatter(AIQuaternion.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putY(float[] src) { scatter(AIQuaternion.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putY(FloatBuffer src) { scatter(AIQuaternion.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putZ(float[] src) { scatter(AIQuaternion.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public AIQuaternion.Buffer putZ(FloatBuffer src) { scatter(AIQuaternion.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
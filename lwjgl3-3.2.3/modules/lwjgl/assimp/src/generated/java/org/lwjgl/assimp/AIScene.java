@@ -375,6 +375,24 @@ public class AIScene extends Struct implements NativeResource {
         return wrap(AIScene.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIScene} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIScene malloc(MemoryArena arena) {
+        return wrap(AIScene.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIScene} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIScene calloc(MemoryArena arena) {
+        return wrap(AIScene.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIScene.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -413,6 +431,26 @@ public class AIScene extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIScene.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIScene.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIScene.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIScene.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mFlags}. */
@@ -636,6 +674,40 @@ public class AIScene extends Struct implements NativeResource {
         /** Sets the address of the specified {@link AIMetaData} to the {@code mMetaData} field. */
         public AIScene.Buffer mMetaData(@Nullable @NativeType("struct aiMetadata *") AIMetaData value) { AIScene.nmMetaData(address(), value); return this; }
 
+        /** Copies the {@code mFlags} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMFlags(int[] dst) { gather(AIScene.MFLAGS, dst); return this; }
+        /** Copies the {@code mFlags} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMFlags(IntBuffer dst) { gather(AIScene.MFLAGS, dst); return this; }
+        /** Copies the {@code mNumMeshes} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMNumMeshes(int[] dst) { gather(AIScene.MNUMMESHES, dst); return this; }
+        /** Copies the {@code mNumMeshes} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMNumMeshes(IntBuffer dst) { gather(AIScene.MNUMMESHES, dst); return this; }
+        /** Copies the {@code mNumMaterials} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMNumMaterials(int[] dst) { gather(AIScene.MNUMMATERIALS, dst); return this; }
+        /** Copies the {@code mNumMaterials} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMNumMaterials(IntBuffer dst) { gather(AIScene.MNUMMATERIALS, dst); return this; }
+        /** Copies the {@code mNumAnimations} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMNumAnimations(int[] dst) { gather(AIScene.MNUMANIMATIONS, dst); return this; }
+        /** Copies the {@code mNumAnimations} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMNumAnimations(IntBuffer dst) { gather(AIScene.MNUMANIMATIONS, dst); return this; }
+        /** Copies the {@code mNumTextures} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMNumTextures(int[] dst) { gather(AIScene.MNUMTEXTURES, dst); return this; }
+        /** Copies the {@code mNumTextures} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMNumTextures(IntBuffer dst) { gather(AIScene.MNUMTEXTURES, dst); return this; }
+        /** Copies the {@code mNumLights} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMNumLights(int[] dst) { gather(AIScene.MNUMLIGHTS, dst); return this; }
+        /** Copies the {@code mNumLights} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMNumLights(IntBuffer dst) { gather(AIScene.MNUMLIGHTS, dst); return this; }
+        /** Copies the {@code mNumCameras} field of the structs between the current position and limit to the specified array. */
+        public AIScene.Buffer getMNumCameras(int[] dst) { gather(AIScene.MNUMCAMERAS, dst); return this; }
+        /** Copies the {@code mNumCameras} field of the structs between the current position and limit to the specified buffer. */
+        public AIScene.Buffer getMNumCameras(IntBuffer dst) { gather(AIScene.MNUMCAMERAS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mFlags} field of the structs between the current position and limit. */
+        public AIScene.Buffer putMFlags(int[] src) { scatter(AIScene.MFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mFlags} field of the structs between the current position and limit. */
+        public AIScene.Buffer putMFlags(IntBuffer src) { scatter(AIScene.MFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -185,6 +185,23 @@ public class AITexel extends Struct {
         @NativeType("unsigned char")
         public byte a() { return AITexel.na(address()); }
 
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public AITexel.Buffer getB(byte[] dst) { gather(AITexel.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public AITexel.Buffer getB(ByteBuffer dst) { gather(AITexel.B, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public AITexel.Buffer getG(byte[] dst) { gather(AITexel.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public AITexel.Buffer getG(ByteBuffer dst) { gather(AITexel.G, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public AITexel.Buffer getR(byte[] dst) { gather(AITexel.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public AITexel.Buffer getR(ByteBuffer dst) { gather(AITexel.R, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public AITexel.Buffer getA(byte[] dst) { gather(AITexel.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public AITexel.Buffer getA(ByteBuffer dst) { gather(AITexel.A, dst); return this; }
+
     }
 
 }
\ No newline at end of file
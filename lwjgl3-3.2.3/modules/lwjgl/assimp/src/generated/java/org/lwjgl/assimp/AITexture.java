@@ -249,6 +249,15 @@ public class AITexture extends Struct {
         @NativeType("struct aiString")
         public AIString mFilename() { return AITexture.nmFilename(address()); }
 
+        /** Copies the {@code mWidth} field of the structs between the current position and limit to the specified array. */
+        public AITexture.Buffer getMWidth(int[] dst) { gather(AITexture.MWIDTH, dst); return this; }
+        /** Copies the {@code mWidth} field of the structs between the current position and limit to the specified buffer. */
+        public AITexture.Buffer getMWidth(IntBuffer dst) { gather(AITexture.MWIDTH, dst); return this; }
+        /** Copies the {@code mHeight} field of the structs between the current position and limit to the specified array. */
+        public AITexture.Buffer getMHeight(int[] dst) { gather(AITexture.MHEIGHT, dst); return this; }
+        /** Copies the {@code mHeight} field of the structs between the current position and limit to the specified buffer. */
+        public AITexture.Buffer getMHeight(IntBuffer dst) { gather(AITexture.MHEIGHT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
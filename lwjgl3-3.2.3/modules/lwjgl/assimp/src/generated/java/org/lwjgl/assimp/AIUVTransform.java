@@ -195,6 +195,24 @@ public class AIUVTransform extends Struct implements NativeResource {
         return wrap(AIUVTransform.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIUVTransform} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIUVTransform malloc(MemoryArena arena) {
+        return wrap(AIUVTransform.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIUVTransform} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIUVTransform calloc(MemoryArena arena) {
+        return wrap(AIUVTransform.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIUVTransform.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -233,6 +251,26 @@ public class AIUVTransform extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIUVTransform.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIUVTransform.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIUVTransform.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIUVTransform.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mTranslation}. */
@@ -289,6 +327,11 @@ public class AIUVTransform extends Struct implements NativeResource {
         /** Returns the value of the {@code mRotation} field. */
         public float mRotation() { return AIUVTransform.nmRotation(address()); }
 
+        /** Copies the {@code mRotation} field of the structs between the current position and limit to the specified array. */
+        public AIUVTransform.Buffer getMRotation(float[] dst) { gather(AIUVTransform.MROTATION, dst); return this; }
+        /** Copies the {@code mRotation} field of the structs between the current position and limit to the specified buffer. */
+        public AIUVTransform.Buffer getMRotation(FloatBuffer dst) { gather(AIUVTransform.MROTATION, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -146,6 +146,15 @@ public class AIVector2D extends Struct {
         /** Returns the value of the {@code y} field. */
         public float y() { return AIVector2D.ny(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public AIVector2D.Buffer getX(float[] dst) { gather(AIVector2D.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public AIVector2D.Buffer getX(FloatBuffer dst) { gather(AIVector2D.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public AIVector2D.Buffer getY(float[] dst) { gather(AIVector2D.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public AIVector2D.Buffer getY(FloatBuffer dst) { gather(AIVector2D.Y, dst); return this; }
+
     }
 
 }
\ No newline at end of file
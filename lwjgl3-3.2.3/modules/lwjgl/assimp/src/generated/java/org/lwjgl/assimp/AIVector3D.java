@@ -210,6 +210,24 @@ public class AIVector3D extends Struct implements NativeResource {
         return wrap(AIVector3D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIVector3D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIVector3D malloc(MemoryArena arena) {
+        return wrap(AIVector3D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIVector3D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIVector3D calloc(MemoryArena arena) {
+        return wrap(AIVector3D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIVector3D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class AIVector3D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIVector3D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIVector3D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIVector3D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIVector3D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -316,6 +354,32 @@ public class AIVector3D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code z} field. */
         public AIVector3D.Buffer z(float value) { AIVector3D.nz(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public AIVector3D.Buffer getX(float[] dst) { gather(AIVector3D.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public AIVector3D.Buffer getX(FloatBuffer dst) { gather(AIVector3D.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public AIVector3D.Buffer getY(float[] dst) { gather(AIVector3D.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public AIVector3D.Buffer getY(FloatBuffer dst) { gather(AIVector3D.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public AIVector3D.Buffer getZ(float[] dst) { gather(AIVector3D.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public AIVector3D.Buffer getZ(FloatBuffer dst) { gather(AIVector3D.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public AIVector3D.Buffer putX(float[] src) { scatter(AIVector3D.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public AIVector3D.Buffer putX(FloatBuffer src) { scatter(AIVector3D.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public AIVector3D.Buffer putY(float[] src) { scatter(AIVector3D.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public AIVector3D.Buffer putY(FloatBuffer src) { scatter(AIVector3D.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public AIVector3D.Buffer putZ(float[] src) { scatter(AIVector3D.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public AIVector3D.Buffer putZ(FloatBuffer src) { scatter(AIVector3D.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
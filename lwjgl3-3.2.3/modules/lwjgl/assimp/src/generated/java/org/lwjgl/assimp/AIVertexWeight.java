@@ -210,6 +210,24 @@ public class AIVertexWeight extends Struct implements NativeResource {
         return wrap(AIVertexWeight.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code AIVertexWeight} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIVertexWeight malloc(MemoryArena arena) {
+        return wrap(AIVertexWeight.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code AIVertexWeight} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static AIVertexWeight calloc(MemoryArena arena) {
+        return wrap(AIVertexWeight.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link AIVertexWeight.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class AIVertexWeight extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link AIVertexWeight.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIVertexWeight.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link AIVertexWeight.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static AIVertexWeight.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mVertexId}. */
@@ -309,6 +347,24 @@ public class AIVertexWeight extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mWeight} field. */
         public AIVertexWeight.Buffer mWeight(float value) { AIVertexWeight.nmWeight(address(), value); return this; }
 
+        /** Copies the {@code mVertexId} field of the structs between the current position and limit to the specified array. */
+        public AIVertexWeight.Buffer getMVertexId(int[] dst) { gather(AIVertexWeight.MVERTEXID, dst); return this; }
+        /** Copies the {@code mVertexId} field of the structs between the current position and limit to the specified buffer. */
+        public AIVertexWeight.Buffer getMVertexId(IntBuffer dst) { gather(AIVertexWeight.MVERTEXID, dst); return this; }
+        /** Copies the {@code mWeight} field of the structs between the current position and limit to the specified array. */
+        public AIVertexWeight.Buffer getMWeight(float[] dst) { gather(AIVertexWeight.MWEIGHT, dst); return this; }
+        /** Copies the {@code mWeight} field of the structs between the current position and limit to the specified buffer. */
+        public AIVertexWeight.Buffer getMWeight(FloatBuffer dst) { gather(AIVertexWeight.MWEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mVertexId} field of the structs between the current position and limit. */
+        public AIVertexWeight.Buffer putMVertexId(int[] src) { scatter(AIVertexWeight.MVERTEXID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mVertexId} field of the structs between the current position and limit. */
+        public AIVertexWeight.Buffer putMVertexId(IntBuffer src) { scatter(AIVertexWeight.MVERTEXID, src); return this; }
+        /** Copies the values in the specified array to the {@code mWeight} field of the structs between the current position and limit. */
+        public AIVertexWeight.Buffer putMWeight(float[] src) { scatter(AIVertexWeight.MWEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mWeight} field of the structs between the current position and limit. */
+        public AIVertexWeight.Buffer putMWeight(FloatBuffer src) { scatter(AIVertexWeight.MWEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -1979,6 +1979,8 @@ public class Assimp {
     /** Assimp was compiled with {@code ASSIMP_BUILD_SINGLETHREADED} defined */
     public static final int ASSIMP_CFLAGS_SINGLETHREADED = 0x10;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Assimp.class, "aiGetExportFormatCount,aiGetExportFormatDescription,aiReleaseExportFormatDescription,aiCopyScene,aiFreeScene,aiExportScene,aiExportSceneEx,aiExportSceneToBlob,aiReleaseExportBlob,aiImportFile,aiImportFileEx,aiImportFileExWithProperties,aiImportFileFromMemory,aiImportFileFromMemoryWithProperties,aiApplyPostProcessing,aiAttachLogStream,aiEnableVerboseLogging,aiDetachLogStream,aiDetachAllLogStreams,aiReleaseImport,aiGetErrorString,aiIsExtensionSupported,aiGetExtensionList,aiGetMemoryRequirements,aiCreatePropertyStore,aiReleasePropertyStore,aiSetImportPropertyInteger,aiSetImportPropertyFloat,aiSetImportPropertyString,aiSetImportPropertyMatrix,aiCreateQuaternionFromMatrix,aiDecomposeMatrix,aiTransposeMatrix4,aiTransposeMatrix3,aiTransformVecByMatrix3,aiTransformVecByMatrix4,aiMultiplyMatrix4,aiMultiplyMatrix3,aiIdentityMatrix3,aiIdentityMatrix4,aiGetImportFormatCount,aiGetImportFormatDescription,aiGetImporterDesc,aiGetMaterialProperty,aiGetMaterialFloatArray,aiGetMaterialIntegerArray,aiGetMaterialColor,aiGetMaterialUVTransform,aiGetMaterialString,aiGetMaterialTextureCount,aiGetMaterialTexture,aiGetLegalString,aiGetVersionMinor,aiGetVersionMajor,aiGetVersionRevision,aiGetBranchName,aiGetCompileFlags");
+
     protected Assimp() {
         throw new UnsupportedOperationException();
     }
@@ -2110,7 +2112,8 @@ public class Assimp {
     @NativeType("size_t")
     public static long aiGetExportFormatCount() {
         long __functionAddress = Functions.GetExportFormatCount;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ aiGetExportFormatDescription ] ---
@@ -2118,7 +2121,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetExportFormatDescription GetExportFormatDescription} */
     public static long naiGetExportFormatDescription(long pIndex) {
         long __functionAddress = Functions.GetExportFormatDescription;
-        return invokePP(pIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(pIndex, __functionAddress));
     }
 
     /**
@@ -2144,7 +2148,9 @@ public class Assimp {
         if (CHECKS) {
             AIExportFormatDesc.validate(desc);
         }
+        long __start = FunctionProfiler.start();
         invokePV(desc, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2164,7 +2170,9 @@ public class Assimp {
         if (CHECKS) {
             AIScene.validate(pIn);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(pIn, pOut, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -2212,7 +2220,9 @@ public class Assimp {
         if (CHECKS) {
             AIScene.validate(pIn);
         }
+        long __start = FunctionProfiler.start();
         invokePV(pIn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -2232,7 +2242,8 @@ public class Assimp {
         if (CHECKS) {
             AIScene.validate(pScene);
         }
-        return invokePPPI(pScene, pFormatId, pFileName, pPreProcessing, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPPI(pScene, pFormatId, pFileName, pPreProcessing, __functionAddress));
     }
 
     /**
@@ -2327,7 +2338,8 @@ public class Assimp {
             AIScene.validate(pScene);
             if (pIO != NULL) { AIFileIO.validate(pIO); }
         }
-        return invokePPPPI(pScene, pFormatId, pFileName, pIO, pPreProcessing, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePPPPI(pScene, pFormatId, pFileName, pIO, pPreProcessing, __functionAddress));
     }
 
     /**
@@ -2425,7 +2437,8 @@ public class Assimp {
         if (CHECKS) {
             AIScene.validate(pScene);
         }
-        return invokePPP(pScene, pFormatId, pPreProcessing, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePPP(pScene, pFormatId, pPreProcessing, __functionAddress));
     }
 
     /**
@@ -2512,7 +2525,9 @@ public class Assimp {
         if (CHECKS) {
             AIExportDataBlob.validate(pData);
         }
+        long __start = FunctionProfiler.start();
         invokePV(pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -2529,7 +2544,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiImportFile ImportFile} */
     public static long naiImportFile(long pFile, int pFlags) {
         long __functionAddress = Functions.ImportFile;
-        return invokePP(pFile, pFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePP(pFile, pFlags, __functionAddress));
     }
 
     /**
@@ -2590,7 +2606,8 @@ public class Assimp {
         if (CHECKS) {
             if (pFS != NULL) { AIFileIO.validate(pFS); }
         }
-        return invokePPP(pFile, pFlags, pFS, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPP(pFile, pFlags, pFS, __functionAddress));
     }
 
     /**
@@ -2653,7 +2670,8 @@ public class Assimp {
         if (CHECKS) {
             if (pFS != NULL) { AIFileIO.validate(pFS); }
         }
-        return invokePPPP(pFile, pFlags, pFS, pProps, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPP(pFile, pFlags, pFS, pProps, __functionAddress));
     }
 
     /**
@@ -2711,7 +2729,8 @@ public class Assimp {
      */
     public static long naiImportFileFromMemory(long pBuffer, int pLength, int pFlags, long pHint) {
         long __functionAddress = Functions.ImportFileFromMemory;
-        return invokePPP(pBuffer, pLength, pFlags, pHint, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPP(pBuffer, pLength, pFlags, pHint, __functionAddress));
     }
 
     /**
@@ -2793,7 +2812,8 @@ public class Assimp {
      */
     public static long naiImportFileFromMemoryWithProperties(long pBuffer, int pLength, int pFlags, long pHint, long pProps) {
         long __functionAddress = Functions.ImportFileFromMemoryWithProperties;
-        return invokePPPP(pBuffer, pLength, pFlags, pHint, pProps, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPPP(pBuffer, pLength, pFlags, pHint, pProps, __functionAddress));
     }
 
     /**
@@ -2854,7 +2874,8 @@ public class Assimp {
         if (CHECKS) {
             AIScene.validate(pScene);
         }
-        return invokePP(pScene, pFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePP(pScene, pFlags, __functionAddress));
     }
 
     /**
@@ -2886,7 +2907,9 @@ public class Assimp {
         if (CHECKS) {
             AILogStream.validate(stream);
         }
+        long __start = FunctionProfiler.start();
         invokePV(stream, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2916,7 +2939,9 @@ public class Assimp {
      */
     public static void aiEnableVerboseLogging(@NativeType("aiBool") boolean d) {
         long __functionAddress = Functions.EnableVerboseLogging;
+        long __start = FunctionProfiler.start();
         invokeV(d ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ aiDetachLogStream ] ---
@@ -2927,7 +2952,8 @@ public class Assimp {
         if (CHECKS) {
             AILogStream.validate(stream);
         }
-        return invokePI(stream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePI(stream, __functionAddress));
     }
 
     /**
@@ -2952,7 +2978,9 @@ public class Assimp {
      */
     public static void aiDetachAllLogStreams() {
         long __functionAddress = Functions.DetachAllLogStreams;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ aiReleaseImport ] ---
@@ -2963,7 +2991,9 @@ public class Assimp {
         if (CHECKS) {
             if (pScene != NULL) { AIScene.validate(pScene); }
         }
+        long __start = FunctionProfiler.start();
         invokePV(pScene, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2982,7 +3012,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetErrorString GetErrorString} */
     public static long naiGetErrorString() {
         long __functionAddress = Functions.GetErrorString;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -3003,7 +3034,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiIsExtensionSupported IsExtensionSupported} */
     public static int naiIsExtensionSupported(long szExtension) {
         long __functionAddress = Functions.IsExtensionSupported;
-        return invokePI(szExtension, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokePI(szExtension, __functionAddress));
     }
 
     /**
@@ -3045,7 +3077,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetExtensionList GetExtensionList} */
     public static void naiGetExtensionList(long szOut) {
         long __functionAddress = Functions.GetExtensionList;
+        long __start = FunctionProfiler.start();
         invokePV(szOut, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -3067,7 +3101,9 @@ public class Assimp {
         if (CHECKS) {
             AIScene.validate(pIn);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(pIn, in, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -3085,7 +3121,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiCreatePropertyStore CreatePropertyStore} */
     public static long naiCreatePropertyStore() {
         long __functionAddress = Functions.CreatePropertyStore;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -3105,7 +3142,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiReleasePropertyStore ReleasePropertyStore} */
     public static void naiReleasePropertyStore(long p) {
         long __functionAddress = Functions.ReleasePropertyStore;
+        long __start = FunctionProfiler.start();
         invokePV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -3122,7 +3161,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiSetImportPropertyInteger SetImportPropertyInteger} */
     public static void naiSetImportPropertyInteger(long store, long szName, int value) {
         long __functionAddress = Functions.SetImportPropertyInteger;
+        long __start = FunctionProfiler.start();
         invokePPV(store, szName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -3168,7 +3209,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiSetImportPropertyFloat SetImportPropertyFloat} */
     public static void naiSetImportPropertyFloat(long store, long szName, float value) {
         long __functionAddress = Functions.SetImportPropertyFloat;
+        long __start = FunctionProfiler.start();
         invokePPV(store, szName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -3214,7 +3257,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiSetImportPropertyString SetImportPropertyString} */
     public static void naiSetImportPropertyString(long store, long szName, long value) {
         long __functionAddress = Functions.SetImportPropertyString;
+        long __start = FunctionProfiler.start();
         invokePPPV(store, szName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -3260,7 +3305,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiSetImportPropertyMatrix SetImportPropertyMatrix} */
     public static void naiSetImportPropertyMatrix(long store, long szName, long value) {
         long __functionAddress = Functions.SetImportPropertyMatrix;
+        long __start = FunctionProfiler.start();
         invokePPPV(store, szName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -3306,7 +3353,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiCreateQuaternionFromMatrix CreateQuaternionFromMatrix} */
     public static void naiCreateQuaternionFromMatrix(long quat, long mat) {
         long __functionAddress = Functions.CreateQuaternionFromMatrix;
+        long __start = FunctionProfiler.start();
         invokePPV(quat, mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -3324,7 +3373,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiDecomposeMatrix DecomposeMatrix} */
     public static void naiDecomposeMatrix(long mat, long scaling, long rotation, long position) {
         long __functionAddress = Functions.DecomposeMatrix;
+        long __start = FunctionProfiler.start();
         invokePPPPV(mat, scaling, rotation, position, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -3344,7 +3395,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiTransposeMatrix4 TransposeMatrix4} */
     public static void naiTransposeMatrix4(long mat) {
         long __functionAddress = Functions.TransposeMatrix4;
+        long __start = FunctionProfiler.start();
         invokePV(mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -3361,7 +3414,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiTransposeMatrix3 TransposeMatrix3} */
     public static void naiTransposeMatrix3(long mat) {
         long __functionAddress = Functions.TransposeMatrix3;
+        long __start = FunctionProfiler.start();
         invokePV(mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -3378,7 +3433,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiTransformVecByMatrix3 TransformVecByMatrix3} */
     public static void naiTransformVecByMatrix3(long vec, long mat) {
         long __functionAddress = Functions.TransformVecByMatrix3;
+        long __start = FunctionProfiler.start();
         invokePPV(vec, mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -3396,7 +3453,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiTransformVecByMatrix4 TransformVecByMatrix4} */
     public static void naiTransformVecByMatrix4(long vec, long mat) {
         long __functionAddress = Functions.TransformVecByMatrix4;
+        long __start = FunctionProfiler.start();
         invokePPV(vec, mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -3414,7 +3473,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiMultiplyMatrix4 MultiplyMatrix4} */
     public static void naiMultiplyMatrix4(long dst, long src) {
         long __functionAddress = Functions.MultiplyMatrix4;
+        long __start = FunctionProfiler.start();
         invokePPV(dst, src, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -3432,7 +3493,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiMultiplyMatrix3 MultiplyMatrix3} */
     public static void naiMultiplyMatrix3(long dst, long src) {
         long __functionAddress = Functions.MultiplyMatrix3;
+        long __start = FunctionProfiler.start();
         invokePPV(dst, src, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -3450,7 +3513,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiIdentityMatrix3 IdentityMatrix3} */
     public static void naiIdentityMatrix3(long mat) {
         long __functionAddress = Functions.IdentityMatrix3;
+        long __start = FunctionProfiler.start();
         invokePV(mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -3467,7 +3532,9 @@ public class Assimp {
     /** Unsafe version of: {@link #aiIdentityMatrix4 IdentityMatrix4} */
     public static void naiIdentityMatrix4(long mat) {
         long __functionAddress = Functions.IdentityMatrix4;
+        long __start = FunctionProfiler.start();
         invokePV(mat, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -3488,7 +3555,8 @@ public class Assimp {
     @NativeType("size_t")
     public static long aiGetImportFormatCount() {
         long __functionAddress = Functions.GetImportFormatCount;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokeP(__functionAddress));
     }
 
     // --- [ aiGetImportFormatDescription ] ---
@@ -3496,7 +3564,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetImportFormatDescription GetImportFormatDescription} */
     public static long naiGetImportFormatDescription(long pIndex) {
         long __functionAddress = Functions.GetImportFormatDescription;
-        return invokePP(pIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, invokePP(pIndex, __functionAddress));
     }
 
     /**
@@ -3518,7 +3587,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetImporterDesc GetImporterDesc} */
     public static long naiGetImporterDesc(long extension) {
         long __functionAddress = Functions.GetImporterDesc;
-        return invokePP(extension, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, invokePP(extension, __functionAddress));
     }
 
     /**
@@ -3571,7 +3641,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPI(pMat, pKey, type, index, mPropOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, invokePPPI(pMat, pKey, type, index, mPropOut, __functionAddress));
     }
 
     /**
@@ -3662,7 +3733,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPPI(pMat, pKey, type, index, pOut, pMax, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, invokePPPPI(pMat, pKey, type, index, pOut, pMax, __functionAddress));
     }
 
     /**
@@ -3727,7 +3799,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPPI(pMat, pKey, type, index, pOut, pMax, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, invokePPPPI(pMat, pKey, type, index, pOut, pMax, __functionAddress));
     }
 
     /**
@@ -3788,7 +3861,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPI(pMat, pKey, type, index, pOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, invokePPPI(pMat, pKey, type, index, pOut, __functionAddress));
     }
 
     /**
@@ -3841,7 +3915,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPI(pMat, pKey, type, index, pOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, invokePPPI(pMat, pKey, type, index, pOut, __functionAddress));
     }
 
     /**
@@ -3894,7 +3969,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPI(pMat, pKey, type, index, pOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, invokePPPI(pMat, pKey, type, index, pOut, __functionAddress));
     }
 
     /**
@@ -3947,7 +4023,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePI(pMat, type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, invokePI(pMat, type, __functionAddress));
     }
 
     /**
@@ -3971,7 +4048,8 @@ public class Assimp {
         if (CHECKS) {
             AIMaterial.validate(pMat);
         }
-        return invokePPPPPPPPI(pMat, type, index, path, mapping, uvindex, blend, op, mapmode, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokePPPPPPPPI(pMat, type, index, path, mapping, uvindex, blend, op, mapmode, flags, __functionAddress));
     }
 
     /**
@@ -4015,7 +4093,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetLegalString GetLegalString} */
     public static long naiGetLegalString() {
         long __functionAddress = Functions.GetLegalString;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -4039,7 +4118,8 @@ public class Assimp {
     @NativeType("unsigned int")
     public static int aiGetVersionMinor() {
         long __functionAddress = Functions.GetVersionMinor;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, invokeI(__functionAddress));
     }
 
     // --- [ aiGetVersionMajor ] ---
@@ -4052,7 +4132,8 @@ public class Assimp {
     @NativeType("unsigned int")
     public static int aiGetVersionMajor() {
         long __functionAddress = Functions.GetVersionMajor;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, invokeI(__functionAddress));
     }
 
     // --- [ aiGetVersionRevision ] ---
@@ -4065,7 +4146,8 @@ public class Assimp {
     @NativeType("unsigned int")
     public static int aiGetVersionRevision() {
         long __functionAddress = Functions.GetVersionRevision;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, invokeI(__functionAddress));
     }
 
     // --- [ aiGetBranchName ] ---
@@ -4073,7 +4155,8 @@ public class Assimp {
     /** Unsafe version of: {@link #aiGetBranchName GetBranchName} */
     public static long naiGetBranchName() {
         long __functionAddress = Functions.GetBranchName;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -4098,7 +4181,8 @@ public class Assimp {
     @NativeType("unsigned int")
     public static int aiGetCompileFlags() {
         long __functionAddress = Functions.GetCompileFlags;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, invokeI(__functionAddress));
     }
 
     /** Array version of: {@link #aiGetMaterialFloatArray GetMaterialFloatArray} */
@@ -4111,7 +4195,8 @@ public class Assimp {
             check(pOut, pMax[0]);
             AIMaterial.validate(pMat.address());
         }
-        return invokePPPPI(pMat.address(), memAddress(pKey), type, index, pOut, pMax, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, invokePPPPI(pMat.address(), memAddress(pKey), type, index, pOut, pMax, __functionAddress));
     }
 
     /** Array version of: {@link #aiGetMaterialFloatArray GetMaterialFloatArray} */
@@ -4127,7 +4212,8 @@ public class Assimp {
         try {
             stack.nASCII(pKey, true);
             long pKeyEncoded = stack.getPointerAddress();
-            return invokePPPPI(pMat.address(), pKeyEncoded, type, index, pOut, pMax, __functionAddress);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 44, __start, invokePPPPI(pMat.address(), pKeyEncoded, type, index, pOut, pMax, __functionAddress));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4143,7 +4229,8 @@ public class Assimp {
             check(pOut, pMax[0]);
             AIMaterial.validate(pMat.address());
         }
-        return invokePPPPI(pMat.address(), memAddress(pKey), type, index, pOut, pMax, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, invokePPPPI(pMat.address(), memAddress(pKey), type, index, pOut, pMax, __functionAddress));
     }
 
     /** Array version of: {@link #aiGetMaterialIntegerArray GetMaterialIntegerArray} */
@@ -4159,7 +4246,8 @@ public class Assimp {
         try {
             stack.nASCII(pKey, true);
             long pKeyEncoded = stack.getPointerAddress();
-            return invokePPPPI(pMat.address(), pKeyEncoded, type, index, pOut, pMax, __functionAddress);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 45, __start, invokePPPPI(pMat.address(), pKeyEncoded, type, index, pOut, pMax, __functionAddress));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4178,7 +4266,8 @@ public class Assimp {
             checkSafe(flags, 1);
             AIMaterial.validate(pMat.address());
         }
-        return invokePPPPPPPPI(pMat.address(), type, index, path.address(), mapping, uvindex, blend, op, mapmode, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokePPPPPPPPI(pMat.address(), type, index, path.address(), mapping, uvindex, blend, op, mapmode, flags, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -947,6 +947,8 @@ public class BGFX {
         BGFX_STATE_BLEND_SCREEN      = BGFX_STATE_BLEND_FUNC(BGFX_STATE_BLEND_ONE, BGFX_STATE_BLEND_INV_SRC_COLOR),
         BGFX_STATE_BLEND_LINEAR_BURN = BGFX_STATE_BLEND_FUNC(BGFX_STATE_BLEND_DST_COLOR, BGFX_STATE_BLEND_INV_DST_COLOR) | BGFX_STATE_BLEND_EQUATION(BGFX_STATE_BLEND_EQUATION_SUB);
 
+    private static final int PROFILE_ID = FunctionProfiler.register(BGFX.class, "bgfx_attachment_init,bgfx_vertex_layout_begin,bgfx_vertex_layout_add,bgfx_vertex_layout_decode,bgfx_vertex_layout_has,bgfx_vertex_layout_skip,bgfx_vertex_layout_end,bgfx_vertex_pack,bgfx_vertex_unpack,bgfx_vertex_convert,bgfx_weld_vertices,bgfx_topology_convert,bgfx_topology_sort_tri_list,bgfx_get_supported_renderers,bgfx_get_renderer_name,bgfx_init_ctor,bgfx_init,bgfx_shutdown,bgfx_reset,bgfx_frame,bgfx_get_renderer_type,bgfx_get_caps,bgfx_get_stats,bgfx_alloc,bgfx_copy,bgfx_make_ref,bgfx_make_ref_release,bgfx_set_debug,bgfx_dbg_text_clear,bgfx_dbg_text_printf,bgfx_dbg_text_vprintf,bgfx_dbg_text_image,bgfx_create_index_buffer,bgfx_set_index_buffer_name,bgfx_destroy_index_buffer,bgfx_create_vertex_layout,bgfx_destroy_vertex_layout,bgfx_create_vertex_buffer,bgfx_set_vertex_buffer_name,bgfx_destroy_vertex_buffer,bgfx_create_dynamic_index_buffer,bgfx_create_dynamic_index_buffer_mem,bgfx_update_dynamic_index_buffer,bgfx_destroy_dynamic_index_buffer,bgfx_create_dynamic_vertex_buffer,bgfx_create_dynamic_vertex_buffer_mem,bgfx_update_dynamic_vertex_buffer,bgfx_destroy_dynamic_vertex_buffer,bgfx_get_avail_transient_index_buffer,bgfx_get_avail_transient_vertex_buffer,bgfx_get_avail_instance_data_buffer,bgfx_alloc_transient_index_buffer,bgfx_alloc_transient_vertex_buffer,bgfx_alloc_transient_buffers,bgfx_alloc_instance_data_buffer,bgfx_create_indirect_buffer,bgfx_destroy_indirect_buffer,bgfx_create_shader,bgfx_get_shader_uniforms,bgfx_set_shader_name,bgfx_destroy_shader,bgfx_create_program,bgfx_create_compute_program,bgfx_destroy_program,bgfx_is_texture_valid,bgfx_calc_texture_size,bgfx_create_texture,bgfx_create_texture_2d,bgfx_create_texture_2d_scaled,bgfx_create_texture_3d,bgfx_create_texture_cube,bgfx_update_texture_2d,bgfx_update_texture_3d,bgfx_update_texture_cube,bgfx_read_texture,bgfx_set_texture_name,bgfx_get_direct_access_ptr,bgfx_destroy_texture,bgfx_create_frame_buffer,bgfx_create_frame_buffer_scaled,bgfx_create_frame_buffer_from_handles,bgfx_create_frame_buffer_from_attachment,bgfx_create_frame_buffer_from_nwh,bgfx_set_frame_buffer_name,bgfx_get_texture,bgfx_destroy_frame_buffer,bgfx_create_uniform,bgfx_get_uniform_info,bgfx_destroy_uniform,bgfx_create_occlusion_query,bgfx_get_result,bgfx_destroy_occlusion_query,bgfx_set_palette_color,bgfx_set_palette_color_rgba8,bgfx_set_view_name,bgfx_set_view_rect,bgfx_set_view_rect_ratio,bgfx_set_view_scissor,bgfx_set_view_clear,bgfx_set_view_clear_mrt,bgfx_set_view_mode,bgfx_set_view_frame_buffer,bgfx_set_view_transform,bgfx_set_view_order,bgfx_encoder_begin,bgfx_encoder_end,bgfx_encoder_set_marker,bgfx_encoder_set_state,bgfx_encoder_set_condition,bgfx_encoder_set_stencil,bgfx_encoder_set_scissor,bgfx_encoder_set_scissor_cached,bgfx_encoder_set_transform,bgfx_encoder_set_transform_cached,bgfx_encoder_alloc_transform,bgfx_encoder_set_uniform,bgfx_encoder_set_index_buffer,bgfx_encoder_set_dynamic_index_buffer,bgfx_encoder_set_transient_index_buffer,bgfx_encoder_set_vertex_buffer,bgfx_encoder_set_dynamic_vertex_buffer,bgfx_encoder_set_transient_vertex_buffer,bgfx_encoder_set_vertex_count,bgfx_encoder_set_instance_data_buffer,bgfx_encoder_set_instance_data_from_vertex_buffer,bgfx_encoder_set_instance_data_from_dynamic_vertex_buffer,bgfx_encoder_set_instance_count,bgfx_encoder_set_texture,bgfx_encoder_touch,bgfx_encoder_submit,bgfx_encoder_submit_occlusion_query,bgfx_encoder_submit_indirect,bgfx_encoder_set_compute_index_buffer,bgfx_encoder_set_compute_vertex_buffer,bgfx_encoder_set_compute_dynamic_index_buffer,bgfx_encoder_set_compute_dynamic_vertex_buffer,bgfx_encoder_set_compute_indirect_buffer,bgfx_encoder_set_image,bgfx_encoder_dispatch,bgfx_encoder_dispatch_indirect,bgfx_encoder_discard,bgfx_encoder_blit,bgfx_request_screen_shot,bgfx_set_marker,bgfx_set_state,bgfx_set_condition,bgfx_set_stencil,bgfx_set_scissor,bgfx_set_scissor_cached,bgfx_set_transform,bgfx_set_transform_cached,bgfx_alloc_transform,bgfx_set_uniform,bgfx_set_index_buffer,bgfx_set_dynamic_index_buffer,bgfx_set_transient_index_buffer,bgfx_set_vertex_buffer,bgfx_set_dynamic_vertex_buffer,bgfx_set_transient_vertex_buffer,bgfx_set_vertex_count,bgfx_set_instance_data_buffer,bgfx_set_instance_data_from_vertex_buffer,bgfx_set_instance_data_from_dynamic_vertex_buffer,bgfx_set_instance_count,bgfx_set_texture,bgfx_touch,bgfx_submit,bgfx_submit_occlusion_query,bgfx_submit_indirect,bgfx_set_compute_index_buffer,bgfx_set_compute_vertex_buffer,bgfx_set_compute_dynamic_index_buffer,bgfx_set_compute_dynamic_vertex_buffer,bgfx_set_compute_indirect_buffer,bgfx_set_image,bgfx_dispatch,bgfx_dispatch_indirect,bgfx_discard,bgfx_blit");
+
     protected BGFX() {
         throw new UnsupportedOperationException();
     }
@@ -1152,7 +1154,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_attachment_init attachment_init} */
     public static void nbgfx_attachment_init(long _this, short _handle, int _access, short _layer, short _mip, byte _resolve) {
         long __functionAddress = Functions.attachment_init;
+        long __start = FunctionProfiler.start();
         invokePV(_this, _handle, _access, _layer, _mip, _resolve, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1173,7 +1177,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_layout_begin vertex_layout_begin} */
     public static long nbgfx_vertex_layout_begin(long _this, int _renderer) {
         long __functionAddress = Functions.vertex_layout_begin;
-        return invokePP(_this, _renderer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(_this, _renderer, __functionAddress));
     }
 
     /**
@@ -1194,7 +1199,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_layout_add vertex_layout_add} */
     public static long nbgfx_vertex_layout_add(long _this, int _attrib, byte _num, int _type, boolean _normalized, boolean _asInt) {
         long __functionAddress = Functions.vertex_layout_add;
-        return invokePP(_this, _attrib, _num, _type, _normalized, _asInt, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(_this, _attrib, _num, _type, _normalized, _asInt, __functionAddress));
     }
 
     /**
@@ -1223,7 +1229,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_layout_decode vertex_layout_decode} */
     public static void nbgfx_vertex_layout_decode(long _this, int _attrib, long _num, long _type, long _normalized, long _asInt) {
         long __functionAddress = Functions.vertex_layout_decode;
+        long __start = FunctionProfiler.start();
         invokePPPPPV(_this, _attrib, _num, _type, _normalized, _asInt, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1251,7 +1259,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_layout_has vertex_layout_has} */
     public static boolean nbgfx_vertex_layout_has(long _this, int _attr) {
         long __functionAddress = Functions.vertex_layout_has;
-        return invokePZ(_this, _attr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePZ(_this, _attr, __functionAddress));
     }
 
     /**
@@ -1270,7 +1279,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_layout_skip vertex_layout_skip} */
     public static long nbgfx_vertex_layout_skip(long _this, byte _num) {
         long __functionAddress = Functions.vertex_layout_skip;
-        return invokePP(_this, _num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePP(_this, _num, __functionAddress));
     }
 
     /**
@@ -1291,7 +1301,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_layout_end vertex_layout_end} */
     public static void nbgfx_vertex_layout_end(long _this) {
         long __functionAddress = Functions.vertex_layout_end;
+        long __start = FunctionProfiler.start();
         invokePV(_this, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1308,7 +1320,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_pack vertex_pack} */
     public static void nbgfx_vertex_pack(long _input, boolean _inputNormalized, int _attr, long _layout, long _data, int _index) {
         long __functionAddress = Functions.vertex_pack;
+        long __start = FunctionProfiler.start();
         invokePPPV(_input, _inputNormalized, _attr, _layout, _data, _index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1333,7 +1347,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_unpack vertex_unpack} */
     public static void nbgfx_vertex_unpack(long _output, int _attr, long _layout, long _data, int _index) {
         long __functionAddress = Functions.vertex_unpack;
+        long __start = FunctionProfiler.start();
         invokePPPV(_output, _attr, _layout, _data, _index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1357,7 +1373,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_vertex_convert vertex_convert} */
     public static void nbgfx_vertex_convert(long _dstLayout, long _dstData, long _srcLayout, long _srcData, int _num) {
         long __functionAddress = Functions.vertex_convert;
+        long __start = FunctionProfiler.start();
         invokePPPPV(_dstLayout, _dstData, _srcLayout, _srcData, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1382,7 +1400,8 @@ public class BGFX {
      */
     public static short nbgfx_weld_vertices(long _output, long _layout, long _data, short _num, float _epsilon) {
         long __functionAddress = Functions.weld_vertices;
-        return invokePPPS(_output, _layout, _data, _num, _epsilon, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPS(_output, _layout, _data, _num, _epsilon, __functionAddress));
     }
 
     /**
@@ -1411,7 +1430,8 @@ public class BGFX {
      */
     public static int nbgfx_topology_convert(int _conversion, long _dst, int _dstSize, long _indices, int _numIndices, boolean _index32) {
         long __functionAddress = Functions.topology_convert;
-        return invokePPI(_conversion, _dst, _dstSize, _indices, _numIndices, _index32, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPI(_conversion, _dst, _dstSize, _indices, _numIndices, _index32, __functionAddress));
     }
 
     /**
@@ -1470,7 +1490,9 @@ public class BGFX {
      */
     public static void nbgfx_topology_sort_tri_list(int _sort, long _dst, int _dstSize, long _dir, long _pos, long _vertices, int _stride, long _indices, int _numIndices, boolean _index32) {
         long __functionAddress = Functions.topology_sort_tri_list;
+        long __start = FunctionProfiler.start();
         invokePPPPPV(_sort, _dst, _dstSize, _dir, _pos, _vertices, _stride, _indices, _numIndices, _index32, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1542,7 +1564,8 @@ public class BGFX {
      */
     public static byte nbgfx_get_supported_renderers(byte _max, long _enum) {
         long __functionAddress = Functions.get_supported_renderers;
-        return invokePB(_max, _enum, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePB(_max, _enum, __functionAddress));
     }
 
     /**
@@ -1562,7 +1585,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_renderer_name get_renderer_name} */
     public static long nbgfx_get_renderer_name(int _type) {
         long __functionAddress = Functions.get_renderer_name;
-        return invokeP(_type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokeP(_type, __functionAddress));
     }
 
     /**
@@ -1582,7 +1606,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_init_ctor init_ctor} */
     public static void nbgfx_init_ctor(long _init) {
         long __functionAddress = Functions.init_ctor;
+        long __start = FunctionProfiler.start();
         invokePV(_init, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1602,7 +1628,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXInit.validate(_init);
         }
-        return invokePZ(_init, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePZ(_init, __functionAddress));
     }
 
     /**
@@ -1622,7 +1649,9 @@ public class BGFX {
     /** Shuts down bgfx library. */
     public static void bgfx_shutdown() {
         long __functionAddress = Functions.shutdown;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ bgfx_reset ] ---
@@ -1639,7 +1668,9 @@ public class BGFX {
      */
     public static void bgfx_reset(@NativeType("uint32_t") int _width, @NativeType("uint32_t") int _height, @NativeType("uint32_t") int _flags, @NativeType("bgfx_texture_format_t") int _format) {
         long __functionAddress = Functions.reset;
+        long __start = FunctionProfiler.start();
         invokeV(_width, _height, _flags, _format, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ bgfx_frame ] ---
@@ -1656,7 +1687,8 @@ public class BGFX {
     @NativeType("uint32_t")
     public static int bgfx_frame(@NativeType("bool") boolean _capture) {
         long __functionAddress = Functions.frame;
-        return invokeI(_capture, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokeI(_capture, __functionAddress));
     }
 
     // --- [ bgfx_get_renderer_type ] ---
@@ -1665,7 +1697,8 @@ public class BGFX {
     @NativeType("bgfx_renderer_type_t")
     public static int bgfx_get_renderer_type() {
         long __functionAddress = Functions.get_renderer_type;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokeI(__functionAddress));
     }
 
     // --- [ bgfx_get_caps ] ---
@@ -1673,7 +1706,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_caps get_caps} */
     public static long nbgfx_get_caps() {
         long __functionAddress = Functions.get_caps;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokeP(__functionAddress));
     }
 
     /** Returns renderer capabilities. */
@@ -1689,7 +1723,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_stats get_stats} */
     public static long nbgfx_get_stats() {
         long __functionAddress = Functions.get_stats;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -1709,7 +1744,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_alloc alloc} */
     public static long nbgfx_alloc(int _size) {
         long __functionAddress = Functions.alloc;
-        return invokeP(_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokeP(_size, __functionAddress));
     }
 
     /**
@@ -1733,7 +1769,8 @@ public class BGFX {
      */
     public static long nbgfx_copy(long _data, int _size) {
         long __functionAddress = Functions.copy;
-        return invokePP(_data, _size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(_data, _size, __functionAddress));
     }
 
     /**
@@ -1829,7 +1866,8 @@ public class BGFX {
      */
     public static long nbgfx_make_ref(long _data, int _size) {
         long __functionAddress = Functions.make_ref;
-        return invokePP(_data, _size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePP(_data, _size, __functionAddress));
     }
 
     /**
@@ -1939,7 +1977,8 @@ public class BGFX {
      */
     public static long nbgfx_make_ref_release(long _data, int _size, long _releaseFn, long _userData) {
         long __functionAddress = Functions.make_ref_release;
-        return invokePPPP(_data, _size, _releaseFn, _userData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokePPPP(_data, _size, _releaseFn, _userData, __functionAddress));
     }
 
     /**
@@ -2070,7 +2109,9 @@ public class BGFX {
      */
     public static void bgfx_set_debug(@NativeType("uint32_t") int _debug) {
         long __functionAddress = Functions.set_debug;
+        long __start = FunctionProfiler.start();
         invokeV(_debug, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ bgfx_dbg_text_clear ] ---
@@ -2078,7 +2119,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_dbg_text_clear dbg_text_clear} */
     public static void nbgfx_dbg_text_clear(byte _attr, boolean _small) {
         long __functionAddress = Functions.dbg_text_clear;
+        long __start = FunctionProfiler.start();
         invokeV(_attr, _small, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2096,7 +2139,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_dbg_text_printf dbg_text_printf} */
     public static void nbgfx_dbg_text_printf(short _x, short _y, byte _attr, long _format) {
         long __functionAddress = Functions.dbg_text_printf;
+        long __start = FunctionProfiler.start();
         invokePV(_x, _y, _attr, _format, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2143,7 +2188,9 @@ public class BGFX {
         if (CHECKS) {
             check(_argList);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_x, _y, _attr, _format, _argList, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2187,7 +2234,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_dbg_text_image dbg_text_image} */
     public static void nbgfx_dbg_text_image(short _x, short _y, short _width, short _height, long _data, short _pitch) {
         long __functionAddress = Functions.dbg_text_image;
+        long __start = FunctionProfiler.start();
         invokePV(_x, _y, _width, _height, _data, _pitch, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2215,7 +2264,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
-        return invokePS(_mem, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, invokePS(_mem, _flags, __functionAddress));
     }
 
     /**
@@ -2238,7 +2288,9 @@ public class BGFX {
      */
     public static void nbgfx_set_index_buffer_name(short _handle, long _name, int _len) {
         long __functionAddress = Functions.set_index_buffer_name;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _name, _len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2277,7 +2329,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_index_buffer(@NativeType("bgfx_index_buffer_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_index_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ bgfx_create_vertex_layout ] ---
@@ -2285,7 +2339,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_create_vertex_layout create_vertex_layout} */
     public static short nbgfx_create_vertex_layout(long _layout) {
         long __functionAddress = Functions.create_vertex_layout;
-        return invokePS(_layout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePS(_layout, __functionAddress));
     }
 
     /**
@@ -2307,7 +2362,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_vertex_layout(@NativeType("bgfx_vertex_layout_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_vertex_layout;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ bgfx_create_vertex_buffer ] ---
@@ -2318,7 +2375,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
-        return invokePPS(_mem, _layout, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, invokePPS(_mem, _layout, _flags, __functionAddress));
     }
 
     /**
@@ -2342,7 +2400,9 @@ public class BGFX {
      */
     public static void nbgfx_set_vertex_buffer_name(short _handle, long _name, int _len) {
         long __functionAddress = Functions.set_vertex_buffer_name;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _name, _len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2381,7 +2441,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_vertex_buffer(@NativeType("bgfx_vertex_buffer_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ bgfx_create_dynamic_index_buffer ] ---
@@ -2389,7 +2451,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_create_dynamic_index_buffer create_dynamic_index_buffer} */
     public static short nbgfx_create_dynamic_index_buffer(int _num, short _flags) {
         long __functionAddress = Functions.create_dynamic_index_buffer;
-        return invokeS(_num, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokeS(_num, _flags, __functionAddress));
     }
 
     /**
@@ -2411,7 +2474,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
-        return invokePS(_mem, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, invokePS(_mem, _flags, __functionAddress));
     }
 
     /**
@@ -2433,7 +2497,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _startIndex, _mem, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2456,7 +2522,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_dynamic_index_buffer(@NativeType("bgfx_dynamic_index_buffer_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_dynamic_index_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ bgfx_create_dynamic_vertex_buffer ] ---
@@ -2464,7 +2532,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_create_dynamic_vertex_buffer create_dynamic_vertex_buffer} */
     public static short nbgfx_create_dynamic_vertex_buffer(int _num, long _layout, short _flags) {
         long __functionAddress = Functions.create_dynamic_vertex_buffer;
-        return invokePS(_num, _layout, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, invokePS(_num, _layout, _flags, __functionAddress));
     }
 
     /**
@@ -2487,7 +2556,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
-        return invokePPS(_mem, _layout, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, invokePPS(_mem, _layout, _flags, __functionAddress));
     }
 
     /**
@@ -2510,7 +2580,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _startVertex, _mem, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -2533,7 +2605,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_dynamic_vertex_buffer(@NativeType("bgfx_dynamic_vertex_buffer_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_dynamic_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ bgfx_get_avail_transient_index_buffer ] ---
@@ -2546,7 +2620,8 @@ public class BGFX {
     @NativeType("uint32_t")
     public static int bgfx_get_avail_transient_index_buffer(@NativeType("uint32_t") int _num) {
         long __functionAddress = Functions.get_avail_transient_index_buffer;
-        return invokeI(_num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, invokeI(_num, __functionAddress));
     }
 
     // --- [ bgfx_get_avail_transient_vertex_buffer ] ---
@@ -2554,7 +2629,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_avail_transient_vertex_buffer get_avail_transient_vertex_buffer} */
     public static int nbgfx_get_avail_transient_vertex_buffer(int _num, long _layout) {
         long __functionAddress = Functions.get_avail_transient_vertex_buffer;
-        return invokePI(_num, _layout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, invokePI(_num, _layout, __functionAddress));
     }
 
     /**
@@ -2573,7 +2649,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_avail_instance_data_buffer get_avail_instance_data_buffer} */
     public static int nbgfx_get_avail_instance_data_buffer(int _num, short _stride) {
         long __functionAddress = Functions.get_avail_instance_data_buffer;
-        return invokeI(_num, _stride, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokeI(_num, _stride, __functionAddress));
     }
 
     /**
@@ -2592,7 +2669,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_alloc_transient_index_buffer alloc_transient_index_buffer} */
     public static void nbgfx_alloc_transient_index_buffer(long _tib, int _num) {
         long __functionAddress = Functions.alloc_transient_index_buffer;
+        long __start = FunctionProfiler.start();
         invokePV(_tib, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -2612,7 +2691,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_alloc_transient_vertex_buffer alloc_transient_vertex_buffer} */
     public static void nbgfx_alloc_transient_vertex_buffer(long _tvb, int _num, long _layout) {
         long __functionAddress = Functions.alloc_transient_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokePPV(_tvb, _num, _layout, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -2631,7 +2712,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_alloc_transient_buffers alloc_transient_buffers} */
     public static boolean nbgfx_alloc_transient_buffers(long _tvb, long _layout, int _numVertices, long _tib, int _numIndices) {
         long __functionAddress = Functions.alloc_transient_buffers;
-        return invokePPPZ(_tvb, _layout, _numVertices, _tib, _numIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, invokePPPZ(_tvb, _layout, _numVertices, _tib, _numIndices, __functionAddress));
     }
 
     /**
@@ -2655,7 +2737,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_alloc_instance_data_buffer alloc_instance_data_buffer} */
     public static void nbgfx_alloc_instance_data_buffer(long _idb, int _num, short _stride) {
         long __functionAddress = Functions.alloc_instance_data_buffer;
+        long __start = FunctionProfiler.start();
         invokePV(_idb, _num, _stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -2679,7 +2763,8 @@ public class BGFX {
     @NativeType("bgfx_indirect_buffer_handle_t")
     public static short bgfx_create_indirect_buffer(@NativeType("uint32_t") int _num) {
         long __functionAddress = Functions.create_indirect_buffer;
-        return invokeS(_num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, invokeS(_num, __functionAddress));
     }
 
     // --- [ bgfx_destroy_indirect_buffer ] ---
@@ -2691,7 +2776,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_indirect_buffer(@NativeType("bgfx_indirect_buffer_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_indirect_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ bgfx_create_shader ] ---
@@ -2702,7 +2789,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
-        return invokePS(_mem, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, invokePS(_mem, __functionAddress));
     }
 
     /** Creates shader from memory buffer. */
@@ -2720,7 +2808,8 @@ public class BGFX {
      */
     public static short nbgfx_get_shader_uniforms(short _handle, long _uniforms, short _max) {
         long __functionAddress = Functions.get_shader_uniforms;
-        return invokePS(_handle, _uniforms, _max, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePS(_handle, _uniforms, _max, __functionAddress));
     }
 
     /**
@@ -2747,7 +2836,9 @@ public class BGFX {
      */
     public static void nbgfx_set_shader_name(short _handle, long _name, int _len) {
         long __functionAddress = Functions.set_shader_name;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _name, _len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -2786,7 +2877,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_shader(@NativeType("bgfx_shader_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_shader;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ bgfx_create_program ] ---
@@ -2803,7 +2896,8 @@ public class BGFX {
     @NativeType("bgfx_program_handle_t")
     public static short bgfx_create_program(@NativeType("bgfx_shader_handle_t") short _vsh, @NativeType("bgfx_shader_handle_t") short _fsh, @NativeType("bool") boolean _destroyShaders) {
         long __functionAddress = Functions.create_program;
-        return invokeS(_vsh, _fsh, _destroyShaders, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, invokeS(_vsh, _fsh, _destroyShaders, __functionAddress));
     }
 
     // --- [ bgfx_create_compute_program ] ---
@@ -2817,7 +2911,8 @@ public class BGFX {
     @NativeType("bgfx_program_handle_t")
     public static short bgfx_create_compute_program(@NativeType("bgfx_shader_handle_t") short _csh, @NativeType("bool") boolean _destroyShaders) {
         long __functionAddress = Functions.create_compute_program;
-        return invokeS(_csh, _destroyShaders, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, invokeS(_csh, _destroyShaders, __functionAddress));
     }
 
     // --- [ bgfx_destroy_program ] ---
@@ -2829,7 +2924,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_program(@NativeType("bgfx_program_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_program;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ bgfx_is_texture_valid ] ---
@@ -2837,7 +2934,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_is_texture_valid is_texture_valid} */
     public static boolean nbgfx_is_texture_valid(short _depth, boolean _cubeMap, short _numLayers, int _format, long _flags) {
         long __functionAddress = Functions.is_texture_valid;
-        return invokeJZ(_depth, _cubeMap, _numLayers, _format, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, invokeJZ(_depth, _cubeMap, _numLayers, _format, _flags, __functionAddress));
     }
 
     /**
@@ -2859,7 +2957,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_calc_texture_size calc_texture_size} */
     public static void nbgfx_calc_texture_size(long _info, short _width, short _height, short _depth, boolean _cubeMap, boolean _hasMips, short _numLayers, int _format) {
         long __functionAddress = Functions.calc_texture_size;
+        long __start = FunctionProfiler.start();
         invokePV(_info, _width, _height, _depth, _cubeMap, _hasMips, _numLayers, _format, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     /**
@@ -2886,7 +2986,8 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
-        return invokePJPS(_mem, _flags, _skip, _info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, invokePJPS(_mem, _flags, _skip, _info, __functionAddress));
     }
 
     /**
@@ -2910,7 +3011,8 @@ public class BGFX {
         if (CHECKS) {
             if (_mem != NULL) { BGFXMemory.validate(_mem); }
         }
-        return invokeJPS(_width, _height, _hasMips, _numLayers, _format, _flags, _mem, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, invokeJPS(_width, _height, _hasMips, _numLayers, _format, _flags, _mem, __functionAddress));
     }
 
     /**
@@ -2935,7 +3037,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_create_texture_2d_scaled create_texture_2d_scaled} */
     public static short nbgfx_create_texture_2d_scaled(int _ratio, boolean _hasMips, short _numLayers, int _format, long _flags) {
         long __functionAddress = Functions.create_texture_2d_scaled;
-        return invokeJS(_ratio, _hasMips, _numLayers, _format, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, invokeJS(_ratio, _hasMips, _numLayers, _format, _flags, __functionAddress));
     }
 
     /**
@@ -2960,7 +3063,8 @@ public class BGFX {
         if (CHECKS) {
             if (_mem != NULL) { BGFXMemory.validate(_mem); }
         }
-        return invokeJPS(_width, _height, _depth, _hasMips, _format, _flags, _mem, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, invokeJPS(_width, _height, _depth, _hasMips, _format, _flags, _mem, __functionAddress));
     }
 
     /**
@@ -2987,7 +3091,8 @@ public class BGFX {
         if (CHECKS) {
             if (_mem != NULL) { BGFXMemory.validate(_mem); }
         }
-        return invokeJPS(_size, _hasMips, _numLayers, _format, _flags, _mem, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, invokeJPS(_size, _hasMips, _numLayers, _format, _flags, _mem, __functionAddress));
     }
 
     /**
@@ -3014,7 +3119,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _layer, _mip, _x, _y, _width, _height, _mem, _pitch, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     /**
@@ -3044,7 +3151,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _mip, _x, _y, _z, _width, _height, _depth, _mem, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     /**
@@ -3074,7 +3183,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXMemory.validate(_mem);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _layer, _side, _mip, _x, _y, _width, _height, _mem, _pitch, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /**
@@ -3122,7 +3233,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_read_texture read_texture} */
     public static int nbgfx_read_texture(short _handle, long _data, byte _mip) {
         long __functionAddress = Functions.read_texture;
-        return invokePI(_handle, _data, _mip, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, invokePI(_handle, _data, _mip, __functionAddress));
     }
 
     /**
@@ -3198,7 +3310,9 @@ public class BGFX {
      */
     public static void nbgfx_set_texture_name(short _handle, long _name, int _len) {
         long __functionAddress = Functions.set_texture_name;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _name, _len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /**
@@ -3243,7 +3357,8 @@ public class BGFX {
     @NativeType("void *")
     public static long bgfx_get_direct_access_ptr(@NativeType("bgfx_texture_handle_t") short _handle) {
         long __functionAddress = Functions.get_direct_access_ptr;
-        return invokeP(_handle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, invokeP(_handle, __functionAddress));
     }
 
     // --- [ bgfx_destroy_texture ] ---
@@ -3255,7 +3370,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_texture(@NativeType("bgfx_texture_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_texture;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     // --- [ bgfx_create_frame_buffer ] ---
@@ -3263,7 +3380,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_create_frame_buffer create_frame_buffer} */
     public static short nbgfx_create_frame_buffer(short _width, short _height, int _format, long _textureFlags) {
         long __functionAddress = Functions.create_frame_buffer;
-        return invokeJS(_width, _height, _format, _textureFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, invokeJS(_width, _height, _format, _textureFlags, __functionAddress));
     }
 
     /**
@@ -3295,7 +3413,8 @@ public class BGFX {
     @NativeType("bgfx_frame_buffer_handle_t")
     public static short bgfx_create_frame_buffer_scaled(@NativeType("bgfx_backbuffer_ratio_t") int _ratio, @NativeType("bgfx_texture_format_t") int _format, @NativeType("uint64_t") long _textureFlags) {
         long __functionAddress = Functions.create_frame_buffer_scaled;
-        return invokeJS(_ratio, _format, _textureFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, invokeJS(_ratio, _format, _textureFlags, __functionAddress));
     }
 
     // --- [ bgfx_create_frame_buffer_from_handles ] ---
@@ -3307,7 +3426,8 @@ public class BGFX {
      */
     public static short nbgfx_create_frame_buffer_from_handles(byte _num, long _handles, boolean _destroyTextures) {
         long __functionAddress = Functions.create_frame_buffer_from_handles;
-        return invokePS(_num, _handles, _destroyTextures, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, invokePS(_num, _handles, _destroyTextures, __functionAddress));
     }
 
     /**
@@ -3332,7 +3452,8 @@ public class BGFX {
      */
     public static short nbgfx_create_frame_buffer_from_attachment(byte _num, long _attachment, boolean _destroyTextures) {
         long __functionAddress = Functions.create_frame_buffer_from_attachment;
-        return invokePS(_num, _attachment, _destroyTextures, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 81, __start, invokePS(_num, _attachment, _destroyTextures, __functionAddress));
     }
 
     /**
@@ -3356,7 +3477,8 @@ public class BGFX {
         if (CHECKS) {
             check(_nwh);
         }
-        return invokePS(_nwh, _width, _height, _format, _depthFormat, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, invokePS(_nwh, _width, _height, _format, _depthFormat, __functionAddress));
     }
 
     /**
@@ -3386,7 +3508,9 @@ public class BGFX {
      */
     public static void nbgfx_set_frame_buffer_name(short _handle, long _name, int _len) {
         long __functionAddress = Functions.set_frame_buffer_name;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _name, _len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     /**
@@ -3421,7 +3545,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_texture get_texture} */
     public static short nbgfx_get_texture(short _handle, byte _attachment) {
         long __functionAddress = Functions.get_texture;
-        return invokeS(_handle, _attachment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 84, __start, invokeS(_handle, _attachment, __functionAddress));
     }
 
     /**
@@ -3446,7 +3571,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_frame_buffer(@NativeType("bgfx_frame_buffer_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_frame_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     // --- [ bgfx_create_uniform ] ---
@@ -3454,7 +3581,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_create_uniform create_uniform} */
     public static short nbgfx_create_uniform(long _name, int _type, short _num) {
         long __functionAddress = Functions.create_uniform;
-        return invokePS(_name, _type, _num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 86, __start, invokePS(_name, _type, _num, __functionAddress));
     }
 
     /**
@@ -3542,7 +3670,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_uniform_info get_uniform_info} */
     public static void nbgfx_get_uniform_info(short _handle, long _info) {
         long __functionAddress = Functions.get_uniform_info;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _info, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     /**
@@ -3564,7 +3694,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_uniform(@NativeType("bgfx_uniform_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_uniform;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     // --- [ bgfx_create_occlusion_query ] ---
@@ -3577,7 +3709,8 @@ public class BGFX {
     @NativeType("bgfx_occlusion_query_handle_t")
     public static short bgfx_create_occlusion_query() {
         long __functionAddress = Functions.create_occlusion_query;
-        return invokeS(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, invokeS(__functionAddress));
     }
 
     // --- [ bgfx_get_result ] ---
@@ -3585,7 +3718,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_get_result get_result} */
     public static int nbgfx_get_result(short _handle, long _result) {
         long __functionAddress = Functions.get_result;
-        return invokePI(_handle, _result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, invokePI(_handle, _result, __functionAddress));
     }
 
     /**
@@ -3613,7 +3747,9 @@ public class BGFX {
      */
     public static void bgfx_destroy_occlusion_query(@NativeType("bgfx_occlusion_query_handle_t") short _handle) {
         long __functionAddress = Functions.destroy_occlusion_query;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     // --- [ bgfx_set_palette_color ] ---
@@ -3621,7 +3757,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_palette_color set_palette_color} */
     public static void nbgfx_set_palette_color(byte _index, long _rgba) {
         long __functionAddress = Functions.set_palette_color;
+        long __start = FunctionProfiler.start();
         invokePV(_index, _rgba, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     /**
@@ -3642,7 +3780,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_palette_color_rgba8 set_palette_color_rgba8} */
     public static void nbgfx_set_palette_color_rgba8(byte _index, int _rgba) {
         long __functionAddress = Functions.set_palette_color_rgba8;
+        long __start = FunctionProfiler.start();
         invokeV(_index, _rgba, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     /**
@@ -3660,7 +3800,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_name set_view_name} */
     public static void nbgfx_set_view_name(short _id, long _name) {
         long __functionAddress = Functions.set_view_name;
+        long __start = FunctionProfiler.start();
         invokePV(_id, _name, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     /**
@@ -3716,7 +3858,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_rect set_view_rect} */
     public static void nbgfx_set_view_rect(short _id, short _x, short _y, short _width, short _height) {
         long __functionAddress = Functions.set_view_rect;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _x, _y, _width, _height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     /**
@@ -3737,7 +3881,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_rect_ratio set_view_rect_ratio} */
     public static void nbgfx_set_view_rect_ratio(short _id, short _x, short _y, int _ratio) {
         long __functionAddress = Functions.set_view_rect_ratio;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _x, _y, _ratio, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     /**
@@ -3757,7 +3903,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_scissor set_view_scissor} */
     public static void nbgfx_set_view_scissor(short _id, short _x, short _y, short _width, short _height) {
         long __functionAddress = Functions.set_view_scissor;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _x, _y, _width, _height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     /**
@@ -3779,7 +3927,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_clear set_view_clear} */
     public static void nbgfx_set_view_clear(short _id, short _flags, int _rgba, float _depth, byte _stencil) {
         long __functionAddress = Functions.set_view_clear;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _flags, _rgba, _depth, _stencil, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     /**
@@ -3800,7 +3950,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_clear_mrt set_view_clear_mrt} */
     public static void nbgfx_set_view_clear_mrt(short _id, short _flags, float _depth, byte _stencil, byte _0, byte _1, byte _2, byte _3, byte _4, byte _5, byte _6, byte _7) {
         long __functionAddress = Functions.set_view_clear_mrt;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _flags, _depth, _stencil, _0, _1, _2, _3, _4, _5, _6, _7, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     /**
@@ -3828,7 +3980,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_mode set_view_mode} */
     public static void nbgfx_set_view_mode(short _id, int _mode) {
         long __functionAddress = Functions.set_view_mode;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _mode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     /**
@@ -3846,7 +4000,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_frame_buffer set_view_frame_buffer} */
     public static void nbgfx_set_view_frame_buffer(short _id, short _handle) {
         long __functionAddress = Functions.set_view_frame_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _handle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     /**
@@ -3866,7 +4022,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_transform set_view_transform} */
     public static void nbgfx_set_view_transform(short _id, long _view, long _proj) {
         long __functionAddress = Functions.set_view_transform;
+        long __start = FunctionProfiler.start();
         invokePPV(_id, _view, _proj, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     /**
@@ -3904,7 +4062,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_view_order set_view_order} */
     public static void nbgfx_set_view_order(short _id, short _num, long _order) {
         long __functionAddress = Functions.set_view_order;
+        long __start = FunctionProfiler.start();
         invokePV(_id, _num, _order, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     /**
@@ -3933,7 +4093,8 @@ public class BGFX {
     @NativeType("struct bgfx_encoder_s *")
     public static long bgfx_encoder_begin(@NativeType("bool") boolean _forThread) {
         long __functionAddress = Functions.encoder_begin;
-        return invokeP(_forThread, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, invokeP(_forThread, __functionAddress));
     }
 
     // --- [ bgfx_encoder_end ] ---
@@ -3948,7 +4109,9 @@ public class BGFX {
         if (CHECKS) {
             check(_encoder);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_encoder, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     // --- [ bgfx_encoder_set_marker ] ---
@@ -3959,7 +4122,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _marker, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     /**
@@ -4021,7 +4186,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePJV(_this, _state, _rgba, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     // --- [ bgfx_encoder_set_condition ] ---
@@ -4038,7 +4205,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _handle, _visible, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     // --- [ bgfx_encoder_set_stencil ] ---
@@ -4055,7 +4224,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _fstencil, _bstencil, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     // --- [ bgfx_encoder_set_scissor ] ---
@@ -4066,7 +4237,8 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
-        return invokePS(_this, _x, _y, _width, _height, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 110, __start, invokePS(_this, _x, _y, _width, _height, __functionAddress));
     }
 
     /**
@@ -4093,7 +4265,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _cache, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     /**
@@ -4118,7 +4292,8 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
-        return invokePPI(_this, _mtx, _num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, invokePPI(_this, _mtx, _num, __functionAddress));
     }
 
     /**
@@ -4155,7 +4330,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _cache, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -4177,7 +4354,8 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
-        return invokePPI(_this, _transform, _num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 114, __start, invokePPI(_this, _transform, _num, __functionAddress));
     }
 
     /**
@@ -4204,7 +4382,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _handle, _value, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /**
@@ -4294,7 +4474,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _handle, _firstIndex, _numIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     // --- [ bgfx_encoder_set_dynamic_index_buffer ] ---
@@ -4312,7 +4494,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _handle, _firstIndex, _numIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     // --- [ bgfx_encoder_set_transient_index_buffer ] ---
@@ -4324,7 +4508,9 @@ public class BGFX {
             check(_this);
             BGFXTransientIndexBuffer.validate(_tib);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _tib, _firstIndex, _numIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     /**
@@ -4347,7 +4533,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stream, _handle, _startVertex, _numVertices, _layoutHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     /**
@@ -4372,7 +4560,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stream, _handle, _startVertex, _numVertices, _layoutHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     /**
@@ -4398,7 +4588,9 @@ public class BGFX {
             check(_this);
             BGFXTransientVertexBuffer.validate(_tvb);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _stream, _tvb, _startVertex, _numVertices, _layoutHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 121, __start);
     }
 
     /**
@@ -4430,7 +4622,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _numVertices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     // --- [ bgfx_encoder_set_instance_data_buffer ] ---
@@ -4442,7 +4636,9 @@ public class BGFX {
             check(_this);
             BGFXInstanceDataBuffer.validate(_idb);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _idb, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 123, __start);
     }
 
     /**
@@ -4472,7 +4668,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _handle, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 124, __start);
     }
 
     // --- [ bgfx_encoder_set_instance_data_from_dynamic_vertex_buffer ] ---
@@ -4490,7 +4688,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _handle, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     // --- [ bgfx_encoder_set_instance_count ] ---
@@ -4508,7 +4708,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _numInstances, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     // --- [ bgfx_encoder_set_texture ] ---
@@ -4519,7 +4721,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _sampler, _handle, _flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 127, __start);
     }
 
     /**
@@ -4543,7 +4747,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 128, __start);
     }
 
     /**
@@ -4566,7 +4772,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, _handle, _depth, _preserveState, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 129, __start);
     }
 
     /**
@@ -4590,7 +4798,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, _program, _occlusionQuery, _depth, _preserveState, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 130, __start);
     }
 
     /**
@@ -4615,7 +4825,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, _handle, _indirectHandle, _start, _num, _depth, _preserveState, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     /**
@@ -4642,7 +4854,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     /**
@@ -4665,7 +4879,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 133, __start);
     }
 
     /**
@@ -4688,7 +4904,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 134, __start);
     }
 
     /**
@@ -4711,7 +4929,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 135, __start);
     }
 
     /**
@@ -4734,7 +4954,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 136, __start);
     }
 
     /**
@@ -4757,7 +4979,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _stage, _handle, _mip, _access, _format, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 137, __start);
     }
 
     /**
@@ -4782,7 +5006,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, _handle, _numX, _numY, _numZ, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 138, __start);
     }
 
     /**
@@ -4807,7 +5033,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, _handle, _indirectHandle, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 139, __start);
     }
 
     /**
@@ -4836,7 +5064,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 140, __start);
     }
 
     // --- [ bgfx_encoder_blit ] ---
@@ -4847,7 +5077,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_this, _id, _dst, _dstMip, _dstX, _dstY, _dstZ, _src, _srcMip, _srcX, _srcY, _srcZ, _width, _height, _depth, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 141, __start);
     }
 
     /**
@@ -4882,7 +5114,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_request_screen_shot request_screen_shot} */
     public static void nbgfx_request_screen_shot(short _handle, long _filePath) {
         long __functionAddress = Functions.request_screen_shot;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _filePath, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 142, __start);
     }
 
     /**
@@ -4920,7 +5154,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_marker set_marker} */
     public static void nbgfx_set_marker(long _marker) {
         long __functionAddress = Functions.set_marker;
+        long __start = FunctionProfiler.start();
         invokePV(_marker, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 143, __start);
     }
 
     /**
@@ -4976,7 +5212,9 @@ public class BGFX {
      */
     public static void bgfx_set_state(@NativeType("uint64_t") long _state, @NativeType("uint32_t") int _rgba) {
         long __functionAddress = Functions.set_state;
+        long __start = FunctionProfiler.start();
         invokeJV(_state, _rgba, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 144, __start);
     }
 
     // --- [ bgfx_set_condition ] ---
@@ -4989,7 +5227,9 @@ public class BGFX {
      */
     public static void bgfx_set_condition(@NativeType("bgfx_occlusion_query_handle_t") short _handle, @NativeType("bool") boolean _visible) {
         long __functionAddress = Functions.set_condition;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, _visible, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 145, __start);
     }
 
     // --- [ bgfx_set_stencil ] ---
@@ -5002,7 +5242,9 @@ public class BGFX {
      */
     public static void bgfx_set_stencil(@NativeType("uint32_t") int _fstencil, @NativeType("uint32_t") int _bstencil) {
         long __functionAddress = Functions.set_stencil;
+        long __start = FunctionProfiler.start();
         invokeV(_fstencil, _bstencil, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 146, __start);
     }
 
     // --- [ bgfx_set_scissor ] ---
@@ -5010,7 +5252,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_scissor set_scissor} */
     public static short nbgfx_set_scissor(short _x, short _y, short _width, short _height) {
         long __functionAddress = Functions.set_scissor;
-        return invokeS(_x, _y, _width, _height, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 147, __start, invokeS(_x, _y, _width, _height, __functionAddress));
     }
 
     /**
@@ -5033,7 +5276,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_scissor_cached set_scissor_cached} */
     public static void nbgfx_set_scissor_cached(short _cache) {
         long __functionAddress = Functions.set_scissor_cached;
+        long __start = FunctionProfiler.start();
         invokeV(_cache, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 148, __start);
     }
 
     /**
@@ -5054,7 +5299,8 @@ public class BGFX {
      */
     public static int nbgfx_set_transform(long _mtx, short _num) {
         long __functionAddress = Functions.set_transform;
-        return invokePI(_mtx, _num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 149, __start, invokePI(_mtx, _num, __functionAddress));
     }
 
     /**
@@ -5086,7 +5332,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_transform_cached set_transform_cached} */
     public static void nbgfx_set_transform_cached(int _cache, short _num) {
         long __functionAddress = Functions.set_transform_cached;
+        long __start = FunctionProfiler.start();
         invokeV(_cache, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 150, __start);
     }
 
     /**
@@ -5104,7 +5352,8 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_alloc_transform alloc_transform} */
     public static int nbgfx_alloc_transform(long _transform, short _num) {
         long __functionAddress = Functions.alloc_transform;
-        return invokePI(_transform, _num, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 151, __start, invokePI(_transform, _num, __functionAddress));
     }
 
     /**
@@ -5127,7 +5376,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_uniform set_uniform} */
     public static void nbgfx_set_uniform(short _handle, long _value, short _num) {
         long __functionAddress = Functions.set_uniform;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _value, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
     /**
@@ -5207,7 +5458,9 @@ public class BGFX {
      */
     public static void bgfx_set_index_buffer(@NativeType("bgfx_index_buffer_handle_t") short _handle, @NativeType("uint32_t") int _firstIndex, @NativeType("uint32_t") int _numIndices) {
         long __functionAddress = Functions.set_index_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, _firstIndex, _numIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 153, __start);
     }
 
     // --- [ bgfx_set_dynamic_index_buffer ] ---
@@ -5221,7 +5474,9 @@ public class BGFX {
      */
     public static void bgfx_set_dynamic_index_buffer(@NativeType("bgfx_dynamic_index_buffer_handle_t") short _handle, @NativeType("uint32_t") int _firstIndex, @NativeType("uint32_t") int _numIndices) {
         long __functionAddress = Functions.set_dynamic_index_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, _firstIndex, _numIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 154, __start);
     }
 
     // --- [ bgfx_set_transient_index_buffer ] ---
@@ -5232,7 +5487,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXTransientIndexBuffer.validate(_tib);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_tib, _firstIndex, _numIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 155, __start);
     }
 
     /**
@@ -5251,7 +5508,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_vertex_buffer set_vertex_buffer} */
     public static void nbgfx_set_vertex_buffer(byte _stream, short _handle, int _startVertex, int _numVertices) {
         long __functionAddress = Functions.set_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stream, _handle, _startVertex, _numVertices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 156, __start);
     }
 
     /**
@@ -5271,7 +5530,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_dynamic_vertex_buffer set_dynamic_vertex_buffer} */
     public static void nbgfx_set_dynamic_vertex_buffer(byte _stream, short _handle, int _startVertex, int _numVertices) {
         long __functionAddress = Functions.set_dynamic_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stream, _handle, _startVertex, _numVertices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 157, __start);
     }
 
     /**
@@ -5294,7 +5555,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXTransientVertexBuffer.validate(_tvb);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_stream, _tvb, _startVertex, _numVertices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 158, __start);
     }
 
     /**
@@ -5320,7 +5583,9 @@ public class BGFX {
      */
     public static void bgfx_set_vertex_count(@NativeType("uint32_t") int _numVertices) {
         long __functionAddress = Functions.set_vertex_count;
+        long __start = FunctionProfiler.start();
         invokeV(_numVertices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 159, __start);
     }
 
     // --- [ bgfx_set_instance_data_buffer ] ---
@@ -5331,7 +5596,9 @@ public class BGFX {
         if (CHECKS) {
             BGFXInstanceDataBuffer.validate(_idb);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_idb, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 160, __start);
     }
 
     /**
@@ -5356,7 +5623,9 @@ public class BGFX {
      */
     public static void bgfx_set_instance_data_from_vertex_buffer(@NativeType("bgfx_vertex_buffer_handle_t") short _handle, @NativeType("uint32_t") int _start, @NativeType("uint32_t") int _num) {
         long __functionAddress = Functions.set_instance_data_from_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 161, __start);
     }
 
     // --- [ bgfx_set_instance_data_from_dynamic_vertex_buffer ] ---
@@ -5370,7 +5639,9 @@ public class BGFX {
      */
     public static void bgfx_set_instance_data_from_dynamic_vertex_buffer(@NativeType("bgfx_dynamic_vertex_buffer_handle_t") short _handle, @NativeType("uint32_t") int _start, @NativeType("uint32_t") int _num) {
         long __functionAddress = Functions.set_instance_data_from_dynamic_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_handle, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 162, __start);
     }
 
     // --- [ bgfx_set_instance_count ] ---
@@ -5384,7 +5655,9 @@ public class BGFX {
      */
     public static void bgfx_set_instance_count(@NativeType("uint32_t") int _numInstances) {
         long __functionAddress = Functions.set_instance_count;
+        long __start = FunctionProfiler.start();
         invokeV(_numInstances, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 163, __start);
     }
 
     // --- [ bgfx_set_texture ] ---
@@ -5392,7 +5665,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_texture set_texture} */
     public static void nbgfx_set_texture(byte _stage, short _sampler, short _handle, int _flags) {
         long __functionAddress = Functions.set_texture;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _sampler, _handle, _flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 164, __start);
     }
 
     /**
@@ -5412,7 +5687,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_touch touch} */
     public static void nbgfx_touch(short _id) {
         long __functionAddress = Functions.touch;
+        long __start = FunctionProfiler.start();
         invokeV(_id, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 165, __start);
     }
 
     /**
@@ -5431,7 +5708,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_submit submit} */
     public static void nbgfx_submit(short _id, short _program, int _depth, boolean _preserveState) {
         long __functionAddress = Functions.submit;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _program, _depth, _preserveState, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 166, __start);
     }
 
     /**
@@ -5451,7 +5730,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_submit_occlusion_query submit_occlusion_query} */
     public static void nbgfx_submit_occlusion_query(short _id, short _program, short _occlusionQuery, int _depth, boolean _preserveState) {
         long __functionAddress = Functions.submit_occlusion_query;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _program, _occlusionQuery, _depth, _preserveState, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 167, __start);
     }
 
     /**
@@ -5472,7 +5753,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_submit_indirect submit_indirect} */
     public static void nbgfx_submit_indirect(short _id, short _program, short _indirectHandle, short _start, short _num, int _depth, boolean _preserveState) {
         long __functionAddress = Functions.submit_indirect;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _program, _indirectHandle, _start, _num, _depth, _preserveState, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 168, __start);
     }
 
     /**
@@ -5495,7 +5778,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_compute_index_buffer set_compute_index_buffer} */
     public static void nbgfx_set_compute_index_buffer(byte _stage, short _handle, int _access) {
         long __functionAddress = Functions.set_compute_index_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 169, __start);
     }
 
     /**
@@ -5514,7 +5799,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_compute_vertex_buffer set_compute_vertex_buffer} */
     public static void nbgfx_set_compute_vertex_buffer(byte _stage, short _handle, int _access) {
         long __functionAddress = Functions.set_compute_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 170, __start);
     }
 
     /**
@@ -5533,7 +5820,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_compute_dynamic_index_buffer set_compute_dynamic_index_buffer} */
     public static void nbgfx_set_compute_dynamic_index_buffer(byte _stage, short _handle, int _access) {
         long __functionAddress = Functions.set_compute_dynamic_index_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 171, __start);
     }
 
     /**
@@ -5552,7 +5841,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_compute_dynamic_vertex_buffer set_compute_dynamic_vertex_buffer} */
     public static void nbgfx_set_compute_dynamic_vertex_buffer(byte _stage, short _handle, int _access) {
         long __functionAddress = Functions.set_compute_dynamic_vertex_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 172, __start);
     }
 
     /**
@@ -5571,7 +5862,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_compute_indirect_buffer set_compute_indirect_buffer} */
     public static void nbgfx_set_compute_indirect_buffer(byte _stage, short _handle, int _access) {
         long __functionAddress = Functions.set_compute_indirect_buffer;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _handle, _access, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 173, __start);
     }
 
     /**
@@ -5590,7 +5883,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_set_image set_image} */
     public static void nbgfx_set_image(byte _stage, short _handle, byte _mip, int _access, int _format) {
         long __functionAddress = Functions.set_image;
+        long __start = FunctionProfiler.start();
         invokeV(_stage, _handle, _mip, _access, _format, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 174, __start);
     }
 
     /**
@@ -5611,7 +5906,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_dispatch dispatch} */
     public static void nbgfx_dispatch(short _id, short _program, int _numX, int _numY, int _numZ) {
         long __functionAddress = Functions.dispatch;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _program, _numX, _numY, _numZ, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 175, __start);
     }
 
     /**
@@ -5632,7 +5929,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_dispatch_indirect dispatch_indirect} */
     public static void nbgfx_dispatch_indirect(short _id, short _program, short _indirectHandle, short _start, short _num) {
         long __functionAddress = Functions.dispatch_indirect;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _program, _indirectHandle, _start, _num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 176, __start);
     }
 
     /**
@@ -5653,7 +5952,9 @@ public class BGFX {
     /** Discards all previously set state for draw or compute call. */
     public static void bgfx_discard() {
         long __functionAddress = Functions.discard;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 177, __start);
     }
 
     // --- [ bgfx_blit ] ---
@@ -5661,7 +5962,9 @@ public class BGFX {
     /** Unsafe version of: {@link #bgfx_blit blit} */
     public static void nbgfx_blit(short _id, short _dst, byte _dstMip, short _dstX, short _dstY, short _dstZ, short _src, byte _srcMip, short _srcX, short _srcY, short _srcZ, short _width, short _height, short _depth) {
         long __functionAddress = Functions.blit;
+        long __start = FunctionProfiler.start();
         invokeV(_id, _dst, _dstMip, _dstX, _dstY, _dstZ, _src, _srcMip, _srcX, _srcY, _srcZ, _width, _height, _depth, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 178, __start);
     }
 
     /**
@@ -5825,7 +6128,9 @@ public class BGFX {
             check(_normalized, 1);
             check(_asInt, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(_this.address(), _attrib, memAddress(_num), _type, memAddress(_normalized), memAddress(_asInt), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #bgfx_vertex_pack vertex_pack} */
@@ -5834,7 +6139,9 @@ public class BGFX {
         if (CHECKS) {
             check(_input, 4);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(_input, _inputNormalized, _attr, _layout.address(), memAddress(_data), _index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #bgfx_vertex_unpack vertex_unpack} */
@@ -5843,28 +6150,33 @@ public class BGFX {
         if (CHECKS) {
             check(_output, 4);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(_output, _attr, _layout.address(), memAddress(_data), _index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #bgfx_weld_vertices weld_vertices} */
     @NativeType("uint16_t")
     public static short bgfx_weld_vertices(@NativeType("uint16_t *") short[] _output, @NativeType("bgfx_vertex_layout_t const *") BGFXVertexLayout _layout, @NativeType("void const *") ByteBuffer _data, float _epsilon) {
         long __functionAddress = Functions.weld_vertices;
-        return invokePPPS(_output, _layout.address(), memAddress(_data), (short)_output.length, _epsilon, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPS(_output, _layout.address(), memAddress(_data), (short)_output.length, _epsilon, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_topology_convert topology_convert} */
     @NativeType("uint32_t")
     public static int bgfx_topology_convert(@NativeType("bgfx_topology_convert_t") int _conversion, @Nullable @NativeType("void *") short[] _dst, @NativeType("void const *") short[] _indices, @NativeType("bool") boolean _index32) {
         long __functionAddress = Functions.topology_convert;
-        return invokePPI(_conversion, _dst, lengthSafe(_dst) << 1, _indices, _indices.length, _index32, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPI(_conversion, _dst, lengthSafe(_dst) << 1, _indices, _indices.length, _index32, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_topology_convert topology_convert} */
     @NativeType("uint32_t")
     public static int bgfx_topology_convert(@NativeType("bgfx_topology_convert_t") int _conversion, @Nullable @NativeType("void *") int[] _dst, @NativeType("void const *") int[] _indices, @NativeType("bool") boolean _index32) {
         long __functionAddress = Functions.topology_convert;
-        return invokePPI(_conversion, _dst, lengthSafe(_dst) << 2, _indices, _indices.length, _index32, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPI(_conversion, _dst, lengthSafe(_dst) << 2, _indices, _indices.length, _index32, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_topology_sort_tri_list topology_sort_tri_list} */
@@ -5874,7 +6186,9 @@ public class BGFX {
             check(_dir, 3);
             check(_pos, 3);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(_sort, memAddress(_dst), _dst.remaining(), _dir, _pos, memAddress(_vertices), _stride, memAddress(_indices), _indices.remaining() >> (_index32 ? 2 : 1), _index32, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #bgfx_topology_sort_tri_list topology_sort_tri_list} */
@@ -5884,7 +6198,9 @@ public class BGFX {
             check(_dir, 3);
             check(_pos, 3);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(_sort, _dst, _dst.length << 1, _dir, _pos, memAddress(_vertices), _stride, _indices, _indices.length, _index32, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #bgfx_topology_sort_tri_list topology_sort_tri_list} */
@@ -5894,14 +6210,17 @@ public class BGFX {
             check(_dir, 3);
             check(_pos, 3);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(_sort, _dst, _dst.length << 2, _dir, _pos, memAddress(_vertices), _stride, _indices, _indices.length, _index32, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #bgfx_get_supported_renderers get_supported_renderers} */
     @NativeType("uint8_t")
     public static byte bgfx_get_supported_renderers(@NativeType("bgfx_renderer_type_t *") int[] _enum) {
         long __functionAddress = Functions.get_supported_renderers;
-        return invokePB((byte)_enum.length, _enum, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePB((byte)_enum.length, _enum, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_copy copy} */
@@ -5909,7 +6228,8 @@ public class BGFX {
     @NativeType("bgfx_memory_t const *")
     public static BGFXMemory bgfx_copy(@NativeType("void const *") short[] _data) {
         long __functionAddress = Functions.copy;
-        long __result = invokePP(_data, _data.length << 1, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(_data, _data.length << 1, __functionAddress));
         return BGFXMemory.createSafe(__result);
     }
 
@@ -5918,7 +6238,8 @@ public class BGFX {
     @NativeType("bgfx_memory_t const *")
     public static BGFXMemory bgfx_copy(@NativeType("void const *") int[] _data) {
         long __functionAddress = Functions.copy;
-        long __result = invokePP(_data, _data.length << 2, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(_data, _data.length << 2, __functionAddress));
         return BGFXMemory.createSafe(__result);
     }
 
@@ -5927,7 +6248,8 @@ public class BGFX {
     @NativeType("bgfx_memory_t const *")
     public static BGFXMemory bgfx_copy(@NativeType("void const *") long[] _data) {
         long __functionAddress = Functions.copy;
-        long __result = invokePP(_data, _data.length << 3, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(_data, _data.length << 3, __functionAddress));
         return BGFXMemory.createSafe(__result);
     }
 
@@ -5936,7 +6258,8 @@ public class BGFX {
     @NativeType("bgfx_memory_t const *")
     public static BGFXMemory bgfx_copy(@NativeType("void const *") float[] _data) {
         long __functionAddress = Functions.copy;
-        long __result = invokePP(_data, _data.length << 2, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(_data, _data.length << 2, __functionAddress));
         return BGFXMemory.createSafe(__result);
     }
 
@@ -5945,7 +6268,8 @@ public class BGFX {
     @NativeType("bgfx_memory_t const *")
     public static BGFXMemory bgfx_copy(@NativeType("void const *") double[] _data) {
         long __functionAddress = Functions.copy;
-        long __result = invokePP(_data, _data.length << 3, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(_data, _data.length << 3, __functionAddress));
         return BGFXMemory.createSafe(__result);
     }
 
@@ -5953,35 +6277,40 @@ public class BGFX {
     @NativeType("uint16_t")
     public static short bgfx_get_shader_uniforms(@NativeType("bgfx_shader_handle_t") short _handle, @NativeType("bgfx_uniform_handle_t *") short[] _uniforms) {
         long __functionAddress = Functions.get_shader_uniforms;
-        return invokePS(_handle, _uniforms, (short)_uniforms.length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePS(_handle, _uniforms, (short)_uniforms.length, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_read_texture read_texture} */
     @NativeType("uint32_t")
     public static int bgfx_read_texture(@NativeType("bgfx_texture_handle_t") short _handle, @NativeType("void *") short[] _data, @NativeType("uint8_t") int _mip) {
         long __functionAddress = Functions.read_texture;
-        return invokePI(_handle, _data, (byte)_mip, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, invokePI(_handle, _data, (byte)_mip, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_read_texture read_texture} */
     @NativeType("uint32_t")
     public static int bgfx_read_texture(@NativeType("bgfx_texture_handle_t") short _handle, @NativeType("void *") int[] _data, @NativeType("uint8_t") int _mip) {
         long __functionAddress = Functions.read_texture;
-        return invokePI(_handle, _data, (byte)_mip, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, invokePI(_handle, _data, (byte)_mip, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_read_texture read_texture} */
     @NativeType("uint32_t")
     public static int bgfx_read_texture(@NativeType("bgfx_texture_handle_t") short _handle, @NativeType("void *") float[] _data, @NativeType("uint8_t") int _mip) {
         long __functionAddress = Functions.read_texture;
-        return invokePI(_handle, _data, (byte)_mip, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, invokePI(_handle, _data, (byte)_mip, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_create_frame_buffer_from_handles create_frame_buffer_from_handles} */
     @NativeType("bgfx_frame_buffer_handle_t")
     public static short bgfx_create_frame_buffer_from_handles(@NativeType("bgfx_texture_handle_t const *") short[] _handles, @NativeType("bool") boolean _destroyTextures) {
         long __functionAddress = Functions.create_frame_buffer_from_handles;
-        return invokePS((byte)_handles.length, _handles, _destroyTextures, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, invokePS((byte)_handles.length, _handles, _destroyTextures, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_get_result get_result} */
@@ -5991,7 +6320,8 @@ public class BGFX {
         if (CHECKS) {
             checkSafe(_result, 1);
         }
-        return invokePI(_handle, _result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, invokePI(_handle, _result, __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_set_palette_color set_palette_color} */
@@ -6000,7 +6330,9 @@ public class BGFX {
         if (CHECKS) {
             check(_rgba, 4);
         }
+        long __start = FunctionProfiler.start();
         invokePV((byte)_index, _rgba, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     /** Array version of: {@link #bgfx_set_view_transform set_view_transform} */
@@ -6010,7 +6342,9 @@ public class BGFX {
             checkSafe(_view, 64 >> 2);
             checkSafe(_proj, 64 >> 2);
         }
+        long __start = FunctionProfiler.start();
         invokePPV((short)_id, _view, _proj, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     /** Array version of: {@link #bgfx_set_view_order set_view_order} */
@@ -6019,7 +6353,9 @@ public class BGFX {
         if (CHECKS) {
             checkSafe(_order, _num);
         }
+        long __start = FunctionProfiler.start();
         invokePV((short)_id, (short)_num, _order, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     /** Array version of: {@link #bgfx_encoder_set_transform encoder_set_transform} */
@@ -6029,7 +6365,8 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
-        return invokePPI(_this, _mtx, (short)(_mtx.length >> 4), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, invokePPI(_this, _mtx, (short)(_mtx.length >> 4), __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_encoder_set_uniform encoder_set_uniform} */
@@ -6038,7 +6375,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /** Array version of: {@link #bgfx_encoder_set_uniform encoder_set_uniform} */
@@ -6047,7 +6386,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /** Array version of: {@link #bgfx_encoder_set_uniform encoder_set_uniform} */
@@ -6056,7 +6397,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /** Array version of: {@link #bgfx_encoder_set_uniform encoder_set_uniform} */
@@ -6065,7 +6408,9 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /** Array version of: {@link #bgfx_encoder_set_uniform encoder_set_uniform} */
@@ -6074,44 +6419,57 @@ public class BGFX {
         if (CHECKS) {
             check(_this);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(_this, _handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /** Array version of: {@link #bgfx_set_transform set_transform} */
     @NativeType("uint32_t")
     public static int bgfx_set_transform(@NativeType("void const *") float[] _mtx) {
         long __functionAddress = Functions.set_transform;
-        return invokePI(_mtx, (short)(_mtx.length >> 4), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 149, __start, invokePI(_mtx, (short)(_mtx.length >> 4), __functionAddress));
     }
 
     /** Array version of: {@link #bgfx_set_uniform set_uniform} */
     public static void bgfx_set_uniform(@NativeType("bgfx_uniform_handle_t") short _handle, @NativeType("void const *") short[] _value, @NativeType("uint16_t") int _num) {
         long __functionAddress = Functions.set_uniform;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
     /** Array version of: {@link #bgfx_set_uniform set_uniform} */
     public static void bgfx_set_uniform(@NativeType("bgfx_uniform_handle_t") short _handle, @NativeType("void const *") int[] _value, @NativeType("uint16_t") int _num) {
         long __functionAddress = Functions.set_uniform;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
     /** Array version of: {@link #bgfx_set_uniform set_uniform} */
     public static void bgfx_set_uniform(@NativeType("bgfx_uniform_handle_t") short _handle, @NativeType("void const *") long[] _value, @NativeType("uint16_t") int _num) {
         long __functionAddress = Functions.set_uniform;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
     /** Array version of: {@link #bgfx_set_uniform set_uniform} */
     public static void bgfx_set_uniform(@NativeType("bgfx_uniform_handle_t") short _handle, @NativeType("void const *") float[] _value, @NativeType("uint16_t") int _num) {
         long __functionAddress = Functions.set_uniform;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
     /** Array version of: {@link #bgfx_set_uniform set_uniform} */
     public static void bgfx_set_uniform(@NativeType("bgfx_uniform_handle_t") short _handle, @NativeType("void const *") double[] _value, @NativeType("uint16_t") int _num) {
         long __functionAddress = Functions.set_uniform;
+        long __start = FunctionProfiler.start();
         invokePV(_handle, _value, (short)_num, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
 }
\ No newline at end of file
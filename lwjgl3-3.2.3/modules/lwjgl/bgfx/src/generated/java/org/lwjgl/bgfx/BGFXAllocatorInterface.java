@@ -147,6 +147,24 @@ public class BGFXAllocatorInterface extends Struct implements NativeResource {
         return wrap(BGFXAllocatorInterface.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXAllocatorInterface} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXAllocatorInterface malloc(MemoryArena arena) {
+        return wrap(BGFXAllocatorInterface.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXAllocatorInterface} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXAllocatorInterface calloc(MemoryArena arena) {
+        return wrap(BGFXAllocatorInterface.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #vtbl}. */
@@ -247,6 +247,24 @@ public class BGFXAttachment extends Struct implements NativeResource {
         return wrap(BGFXAttachment.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXAttachment} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXAttachment malloc(MemoryArena arena) {
+        return wrap(BGFXAttachment.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXAttachment} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXAttachment calloc(MemoryArena arena) {
+        return wrap(BGFXAttachment.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXAttachment.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class BGFXAttachment extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXAttachment.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXAttachment.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXAttachment.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXAttachment.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #access}. */
@@ -374,6 +412,48 @@ public class BGFXAttachment extends Struct implements NativeResource {
         /** Sets the specified value to the {@code resolve} field. */
         public BGFXAttachment.Buffer resolve(@NativeType("uint8_t") byte value) { BGFXAttachment.nresolve(address(), value); return this; }
 
+        /** Copies the {@code access} field of the structs between the current position and limit to the specified array. */
+        public BGFXAttachment.Buffer getAccess(int[] dst) { gather(BGFXAttachment.ACCESS, dst); return this; }
+        /** Copies the {@code access} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXAttachment.Buffer getAccess(IntBuffer dst) { gather(BGFXAttachment.ACCESS, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified array. */
+        public BGFXAttachment.Buffer getHandle(short[] dst) { gather(BGFXAttachment.HANDLE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXAttachment.Buffer getHandle(ShortBuffer dst) { gather(BGFXAttachment.HANDLE, dst); return this; }
+        /** Copies the {@code mip} field of the structs between the current position and limit to the specified array. */
+        public BGFXAttachment.Buffer getMip(short[] dst) { gather(BGFXAttachment.MIP, dst); return this; }
+        /** Copies the {@code mip} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXAttachment.Buffer getMip(ShortBuffer dst) { gather(BGFXAttachment.MIP, dst); return this; }
+        /** Copies the {@code layer} field of the structs between the current position and limit to the specified array. */
+        public BGFXAttachment.Buffer getLayer(short[] dst) { gather(BGFXAttachment.LAYER, dst); return this; }
+        /** Copies the {@code layer} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXAttachment.Buffer getLayer(ShortBuffer dst) { gather(BGFXAttachment.LAYER, dst); return this; }
+        /** Copies the {@code resolve} field of the structs between the current position and limit to the specified array. */
+        public BGFXAttachment.Buffer getResolve(byte[] dst) { gather(BGFXAttachment.RESOLVE, dst); return this; }
+        /** Copies the {@code resolve} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXAttachment.Buffer getResolve(ByteBuffer dst) { gather(BGFXAttachment.RESOLVE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code access} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putAccess(int[] src) { scatter(BGFXAttachment.ACCESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code access} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putAccess(IntBuffer src) { scatter(BGFXAttachment.ACCESS, src); return this; }
+        /** Copies the values in the specified array to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putHandle(short[] src) { scatter(BGFXAttachment.HANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putHandle(ShortBuffer src) { scatter(BGFXAttachment.HANDLE, src); return this; }
+        /** Copies the values in the specified array to the {@code mip} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putMip(short[] src) { scatter(BGFXAttachment.MIP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mip} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putMip(ShortBuffer src) { scatter(BGFXAttachment.MIP, src); return this; }
+        /** Copies the values in the specified array to the {@code layer} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putLayer(short[] src) { scatter(BGFXAttachment.LAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layer} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putLayer(ShortBuffer src) { scatter(BGFXAttachment.LAYER, src); return this; }
+        /** Copies the values in the specified array to the {@code resolve} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putResolve(byte[] src) { scatter(BGFXAttachment.RESOLVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code resolve} field of the structs between the current position and limit. */
+        public BGFXAttachment.Buffer putResolve(ByteBuffer src) { scatter(BGFXAttachment.RESOLVE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -151,6 +151,24 @@ public class BGFXCallbackInterface extends Struct implements NativeResource {
         return wrap(BGFXCallbackInterface.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXCallbackInterface} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXCallbackInterface malloc(MemoryArena arena) {
+        return wrap(BGFXCallbackInterface.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXCallbackInterface} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXCallbackInterface calloc(MemoryArena arena) {
+        return wrap(BGFXCallbackInterface.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #vtbl}. */
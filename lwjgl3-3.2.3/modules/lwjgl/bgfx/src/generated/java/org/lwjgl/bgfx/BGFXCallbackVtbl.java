@@ -288,6 +288,24 @@ public class BGFXCallbackVtbl extends Struct implements NativeResource {
         return wrap(BGFXCallbackVtbl.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXCallbackVtbl} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXCallbackVtbl malloc(MemoryArena arena) {
+        return wrap(BGFXCallbackVtbl.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXCallbackVtbl} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXCallbackVtbl calloc(MemoryArena arena) {
+        return wrap(BGFXCallbackVtbl.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #fatal}. */
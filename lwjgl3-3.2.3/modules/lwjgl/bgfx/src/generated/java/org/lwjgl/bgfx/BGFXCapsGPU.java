@@ -159,6 +159,15 @@ public class BGFXCapsGPU extends Struct {
         @NativeType("uint16_t")
         public short deviceId() { return BGFXCapsGPU.ndeviceId(address()); }
 
+        /** Copies the {@code vendorId} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsGPU.Buffer getVendorId(short[] dst) { gather(BGFXCapsGPU.VENDORID, dst); return this; }
+        /** Copies the {@code vendorId} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsGPU.Buffer getVendorId(ShortBuffer dst) { gather(BGFXCapsGPU.VENDORID, dst); return this; }
+        /** Copies the {@code deviceId} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsGPU.Buffer getDeviceId(short[] dst) { gather(BGFXCapsGPU.DEVICEID, dst); return this; }
+        /** Copies the {@code deviceId} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsGPU.Buffer getDeviceId(ShortBuffer dst) { gather(BGFXCapsGPU.DEVICEID, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -432,6 +432,99 @@ public class BGFXCapsLimits extends Struct {
         @NativeType("uint32_t")
         public int transientIbSize() { return BGFXCapsLimits.ntransientIbSize(address()); }
 
+        /** Copies the {@code maxDrawCalls} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxDrawCalls(int[] dst) { gather(BGFXCapsLimits.MAXDRAWCALLS, dst); return this; }
+        /** Copies the {@code maxDrawCalls} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxDrawCalls(IntBuffer dst) { gather(BGFXCapsLimits.MAXDRAWCALLS, dst); return this; }
+        /** Copies the {@code maxBlits} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxBlits(int[] dst) { gather(BGFXCapsLimits.MAXBLITS, dst); return this; }
+        /** Copies the {@code maxBlits} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxBlits(IntBuffer dst) { gather(BGFXCapsLimits.MAXBLITS, dst); return this; }
+        /** Copies the {@code maxTextureSize} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxTextureSize(int[] dst) { gather(BGFXCapsLimits.MAXTEXTURESIZE, dst); return this; }
+        /** Copies the {@code maxTextureSize} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxTextureSize(IntBuffer dst) { gather(BGFXCapsLimits.MAXTEXTURESIZE, dst); return this; }
+        /** Copies the {@code maxTextureLayers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxTextureLayers(int[] dst) { gather(BGFXCapsLimits.MAXTEXTURELAYERS, dst); return this; }
+        /** Copies the {@code maxTextureLayers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxTextureLayers(IntBuffer dst) { gather(BGFXCapsLimits.MAXTEXTURELAYERS, dst); return this; }
+        /** Copies the {@code maxViews} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxViews(int[] dst) { gather(BGFXCapsLimits.MAXVIEWS, dst); return this; }
+        /** Copies the {@code maxViews} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxViews(IntBuffer dst) { gather(BGFXCapsLimits.MAXVIEWS, dst); return this; }
+        /** Copies the {@code maxFrameBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxFrameBuffers(int[] dst) { gather(BGFXCapsLimits.MAXFRAMEBUFFERS, dst); return this; }
+        /** Copies the {@code maxFrameBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxFrameBuffers(IntBuffer dst) { gather(BGFXCapsLimits.MAXFRAMEBUFFERS, dst); return this; }
+        /** Copies the {@code maxFBAttachments} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxFBAttachments(int[] dst) { gather(BGFXCapsLimits.MAXFBATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxFBAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxFBAttachments(IntBuffer dst) { gather(BGFXCapsLimits.MAXFBATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxPrograms} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxPrograms(int[] dst) { gather(BGFXCapsLimits.MAXPROGRAMS, dst); return this; }
+        /** Copies the {@code maxPrograms} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxPrograms(IntBuffer dst) { gather(BGFXCapsLimits.MAXPROGRAMS, dst); return this; }
+        /** Copies the {@code maxShaders} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxShaders(int[] dst) { gather(BGFXCapsLimits.MAXSHADERS, dst); return this; }
+        /** Copies the {@code maxShaders} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxShaders(IntBuffer dst) { gather(BGFXCapsLimits.MAXSHADERS, dst); return this; }
+        /** Copies the {@code maxTextures} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxTextures(int[] dst) { gather(BGFXCapsLimits.MAXTEXTURES, dst); return this; }
+        /** Copies the {@code maxTextures} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxTextures(IntBuffer dst) { gather(BGFXCapsLimits.MAXTEXTURES, dst); return this; }
+        /** Copies the {@code maxTextureSamplers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxTextureSamplers(int[] dst) { gather(BGFXCapsLimits.MAXTEXTURESAMPLERS, dst); return this; }
+        /** Copies the {@code maxTextureSamplers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxTextureSamplers(IntBuffer dst) { gather(BGFXCapsLimits.MAXTEXTURESAMPLERS, dst); return this; }
+        /** Copies the {@code maxComputeBindings} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxComputeBindings(int[] dst) { gather(BGFXCapsLimits.MAXCOMPUTEBINDINGS, dst); return this; }
+        /** Copies the {@code maxComputeBindings} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxComputeBindings(IntBuffer dst) { gather(BGFXCapsLimits.MAXCOMPUTEBINDINGS, dst); return this; }
+        /** Copies the {@code maxVertexLayouts} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxVertexLayouts(int[] dst) { gather(BGFXCapsLimits.MAXVERTEXLAYOUTS, dst); return this; }
+        /** Copies the {@code maxVertexLayouts} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxVertexLayouts(IntBuffer dst) { gather(BGFXCapsLimits.MAXVERTEXLAYOUTS, dst); return this; }
+        /** Copies the {@code maxVertexStreams} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxVertexStreams(int[] dst) { gather(BGFXCapsLimits.MAXVERTEXSTREAMS, dst); return this; }
+        /** Copies the {@code maxVertexStreams} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxVertexStreams(IntBuffer dst) { gather(BGFXCapsLimits.MAXVERTEXSTREAMS, dst); return this; }
+        /** Copies the {@code maxIndexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxIndexBuffers(int[] dst) { gather(BGFXCapsLimits.MAXINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxIndexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxIndexBuffers(IntBuffer dst) { gather(BGFXCapsLimits.MAXINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxVertexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxVertexBuffers(int[] dst) { gather(BGFXCapsLimits.MAXVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxVertexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxVertexBuffers(IntBuffer dst) { gather(BGFXCapsLimits.MAXVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxDynamicIndexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxDynamicIndexBuffers(int[] dst) { gather(BGFXCapsLimits.MAXDYNAMICINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxDynamicIndexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxDynamicIndexBuffers(IntBuffer dst) { gather(BGFXCapsLimits.MAXDYNAMICINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxDynamicVertexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxDynamicVertexBuffers(int[] dst) { gather(BGFXCapsLimits.MAXDYNAMICVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxDynamicVertexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxDynamicVertexBuffers(IntBuffer dst) { gather(BGFXCapsLimits.MAXDYNAMICVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code maxUniforms} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxUniforms(int[] dst) { gather(BGFXCapsLimits.MAXUNIFORMS, dst); return this; }
+        /** Copies the {@code maxUniforms} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxUniforms(IntBuffer dst) { gather(BGFXCapsLimits.MAXUNIFORMS, dst); return this; }
+        /** Copies the {@code maxOcclusionQueries} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxOcclusionQueries(int[] dst) { gather(BGFXCapsLimits.MAXOCCLUSIONQUERIES, dst); return this; }
+        /** Copies the {@code maxOcclusionQueries} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxOcclusionQueries(IntBuffer dst) { gather(BGFXCapsLimits.MAXOCCLUSIONQUERIES, dst); return this; }
+        /** Copies the {@code maxEncoders} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getMaxEncoders(int[] dst) { gather(BGFXCapsLimits.MAXENCODERS, dst); return this; }
+        /** Copies the {@code maxEncoders} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getMaxEncoders(IntBuffer dst) { gather(BGFXCapsLimits.MAXENCODERS, dst); return this; }
+        /** Copies the {@code transientVbSize} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getTransientVbSize(int[] dst) { gather(BGFXCapsLimits.TRANSIENTVBSIZE, dst); return this; }
+        /** Copies the {@code transientVbSize} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getTransientVbSize(IntBuffer dst) { gather(BGFXCapsLimits.TRANSIENTVBSIZE, dst); return this; }
+        /** Copies the {@code transientIbSize} field of the structs between the current position and limit to the specified array. */
+        public BGFXCapsLimits.Buffer getTransientIbSize(int[] dst) { gather(BGFXCapsLimits.TRANSIENTIBSIZE, dst); return this; }
+        /** Copies the {@code transientIbSize} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXCapsLimits.Buffer getTransientIbSize(IntBuffer dst) { gather(BGFXCapsLimits.TRANSIENTIBSIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
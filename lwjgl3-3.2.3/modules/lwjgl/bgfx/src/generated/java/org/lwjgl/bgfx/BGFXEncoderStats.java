@@ -159,6 +159,15 @@ public class BGFXEncoderStats extends Struct {
         @NativeType("int64_t")
         public long cpuTimeEnd() { return BGFXEncoderStats.ncpuTimeEnd(address()); }
 
+        /** Copies the {@code cpuTimeBegin} field of the structs between the current position and limit to the specified array. */
+        public BGFXEncoderStats.Buffer getCpuTimeBegin(long[] dst) { gather(BGFXEncoderStats.CPUTIMEBEGIN, dst); return this; }
+        /** Copies the {@code cpuTimeBegin} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXEncoderStats.Buffer getCpuTimeBegin(LongBuffer dst) { gather(BGFXEncoderStats.CPUTIMEBEGIN, dst); return this; }
+        /** Copies the {@code cpuTimeEnd} field of the structs between the current position and limit to the specified array. */
+        public BGFXEncoderStats.Buffer getCpuTimeEnd(long[] dst) { gather(BGFXEncoderStats.CPUTIMEEND, dst); return this; }
+        /** Copies the {@code cpuTimeEnd} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXEncoderStats.Buffer getCpuTimeEnd(LongBuffer dst) { gather(BGFXEncoderStats.CPUTIMEEND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -270,6 +270,24 @@ public class BGFXInit extends Struct implements NativeResource {
         return wrap(BGFXInit.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXInit} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXInit malloc(MemoryArena arena) {
+        return wrap(BGFXInit.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXInit} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXInit calloc(MemoryArena arena) {
+        return wrap(BGFXInit.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
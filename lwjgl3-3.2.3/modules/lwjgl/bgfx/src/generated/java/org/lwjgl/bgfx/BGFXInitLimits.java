@@ -177,6 +177,24 @@ public class BGFXInitLimits extends Struct implements NativeResource {
         return wrap(BGFXInitLimits.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXInitLimits} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXInitLimits malloc(MemoryArena arena) {
+        return wrap(BGFXInitLimits.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXInitLimits} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXInitLimits calloc(MemoryArena arena) {
+        return wrap(BGFXInitLimits.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #maxEncoders}. */
@@ -256,6 +256,24 @@ public class BGFXInstanceDataBuffer extends Struct implements NativeResource {
         return wrap(BGFXInstanceDataBuffer.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXInstanceDataBuffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXInstanceDataBuffer malloc(MemoryArena arena) {
+        return wrap(BGFXInstanceDataBuffer.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXInstanceDataBuffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXInstanceDataBuffer calloc(MemoryArena arena) {
+        return wrap(BGFXInstanceDataBuffer.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXInstanceDataBuffer.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class BGFXInstanceDataBuffer extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXInstanceDataBuffer.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXInstanceDataBuffer.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXInstanceDataBuffer.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXInstanceDataBuffer.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data() data}. */
@@ -411,6 +449,44 @@ public class BGFXInstanceDataBuffer extends Struct implements NativeResource {
         /** Sets the specified value to the {@code handle} field. */
         public BGFXInstanceDataBuffer.Buffer handle(@NativeType("bgfx_vertex_buffer_handle_t") short value) { BGFXInstanceDataBuffer.nhandle(address(), value); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public BGFXInstanceDataBuffer.Buffer getSize(int[] dst) { gather(BGFXInstanceDataBuffer.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXInstanceDataBuffer.Buffer getSize(IntBuffer dst) { gather(BGFXInstanceDataBuffer.SIZE, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public BGFXInstanceDataBuffer.Buffer getOffset(int[] dst) { gather(BGFXInstanceDataBuffer.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXInstanceDataBuffer.Buffer getOffset(IntBuffer dst) { gather(BGFXInstanceDataBuffer.OFFSET, dst); return this; }
+        /** Copies the {@code num} field of the structs between the current position and limit to the specified array. */
+        public BGFXInstanceDataBuffer.Buffer getNum(int[] dst) { gather(BGFXInstanceDataBuffer.NUM, dst); return this; }
+        /** Copies the {@code num} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXInstanceDataBuffer.Buffer getNum(IntBuffer dst) { gather(BGFXInstanceDataBuffer.NUM, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified array. */
+        public BGFXInstanceDataBuffer.Buffer getStride(short[] dst) { gather(BGFXInstanceDataBuffer.STRIDE, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXInstanceDataBuffer.Buffer getStride(ShortBuffer dst) { gather(BGFXInstanceDataBuffer.STRIDE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified array. */
+        public BGFXInstanceDataBuffer.Buffer getHandle(short[] dst) { gather(BGFXInstanceDataBuffer.HANDLE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXInstanceDataBuffer.Buffer getHandle(ShortBuffer dst) { gather(BGFXInstanceDataBuffer.HANDLE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putOffset(int[] src) { scatter(BGFXInstanceDataBuffer.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putOffset(IntBuffer src) { scatter(BGFXInstanceDataBuffer.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code num} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putNum(int[] src) { scatter(BGFXInstanceDataBuffer.NUM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putNum(IntBuffer src) { scatter(BGFXInstanceDataBuffer.NUM, src); return this; }
+        /** Copies the values in the specified array to the {@code stride} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putStride(short[] src) { scatter(BGFXInstanceDataBuffer.STRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stride} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putStride(ShortBuffer src) { scatter(BGFXInstanceDataBuffer.STRIDE, src); return this; }
+        /** Copies the values in the specified array to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putHandle(short[] src) { scatter(BGFXInstanceDataBuffer.HANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXInstanceDataBuffer.Buffer putHandle(ShortBuffer src) { scatter(BGFXInstanceDataBuffer.HANDLE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -201,6 +201,24 @@ public class BGFXMemory extends Struct implements NativeResource {
         return wrap(BGFXMemory.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXMemory} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXMemory malloc(MemoryArena arena) {
+        return wrap(BGFXMemory.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXMemory} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXMemory calloc(MemoryArena arena) {
+        return wrap(BGFXMemory.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXMemory.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class BGFXMemory extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXMemory.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXMemory.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXMemory.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXMemory.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data() data}. */
@@ -320,6 +358,11 @@ public class BGFXMemory extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code data} field. */
         public BGFXMemory.Buffer data(@NativeType("uint8_t *") ByteBuffer value) { BGFXMemory.ndata(address(), value); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public BGFXMemory.Buffer getSize(int[] dst) { gather(BGFXMemory.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXMemory.Buffer getSize(IntBuffer dst) { gather(BGFXMemory.SIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
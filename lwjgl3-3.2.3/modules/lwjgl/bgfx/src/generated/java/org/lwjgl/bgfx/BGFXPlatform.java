@@ -35,6 +35,8 @@ public class BGFXPlatform {
         BGFX_RENDER_FRAME_EXITING    = 3,
         BGFX_RENDER_FRAME_COUNT      = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(BGFXPlatform.class, "bgfx_render_frame,bgfx_set_platform_data,bgfx_get_internal_data,bgfx_override_internal_texture_ptr,bgfx_override_internal_texture");
+
     protected BGFXPlatform() {
         throw new UnsupportedOperationException();
     }
@@ -72,7 +74,8 @@ public class BGFXPlatform {
     @NativeType("bgfx_renderer_frame_t")
     public static int bgfx_render_frame(@NativeType("int32_t") int _msecs) {
         long __functionAddress = Functions.render_frame;
-        return invokeI(_msecs, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(_msecs, __functionAddress));
     }
 
     // --- [ bgfx_set_platform_data ] ---
@@ -80,7 +83,9 @@ public class BGFXPlatform {
     /** Unsafe version of: {@link #bgfx_set_platform_data set_platform_data} */
     public static void nbgfx_set_platform_data(long _data) {
         long __functionAddress = Functions.set_platform_data;
+        long __start = FunctionProfiler.start();
         invokePV(_data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -99,7 +104,8 @@ public class BGFXPlatform {
     /** Unsafe version of: {@link #bgfx_get_internal_data get_internal_data} */
     public static long nbgfx_get_internal_data() {
         long __functionAddress = Functions.get_internal_data;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokeP(__functionAddress));
     }
 
     /** Gets internal data for interop. */
@@ -127,7 +133,8 @@ public class BGFXPlatform {
     @NativeType("uintptr_t")
     public static long bgfx_override_internal_texture_ptr(@NativeType("bgfx_texture_handle_t") short _handle, @NativeType("uintptr_t") long _ptr) {
         long __functionAddress = Functions.override_internal_texture_ptr;
-        return invokePP(_handle, _ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(_handle, _ptr, __functionAddress));
     }
 
     // --- [ bgfx_override_internal_texture ] ---
@@ -135,7 +142,8 @@ public class BGFXPlatform {
     /** Unsafe version of: {@link #bgfx_override_internal_texture override_internal_texture} */
     public static long nbgfx_override_internal_texture(short _handle, short _width, short _height, byte _numMips, int _format, long _flags) {
         long __functionAddress = Functions.override_internal_texture;
-        return invokeJP(_handle, _width, _height, _numMips, _format, _flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokeJP(_handle, _width, _height, _numMips, _format, _flags, __functionAddress));
     }
 
     /**
@@ -215,6 +215,24 @@ public class BGFXResolution extends Struct implements NativeResource {
         return wrap(BGFXResolution.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXResolution} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXResolution malloc(MemoryArena arena) {
+        return wrap(BGFXResolution.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXResolution} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXResolution calloc(MemoryArena arena) {
+        return wrap(BGFXResolution.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #format}. */
@@ -655,6 +655,151 @@ public class BGFXStats extends Struct {
         @NativeType("bgfx_encoder_stats_t *")
         public BGFXEncoderStats.Buffer encoderStats() { return BGFXStats.nencoderStats(address()); }
 
+        /** Copies the {@code cpuTimeFrame} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getCpuTimeFrame(long[] dst) { gather(BGFXStats.CPUTIMEFRAME, dst); return this; }
+        /** Copies the {@code cpuTimeFrame} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getCpuTimeFrame(LongBuffer dst) { gather(BGFXStats.CPUTIMEFRAME, dst); return this; }
+        /** Copies the {@code cpuTimeBegin} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getCpuTimeBegin(long[] dst) { gather(BGFXStats.CPUTIMEBEGIN, dst); return this; }
+        /** Copies the {@code cpuTimeBegin} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getCpuTimeBegin(LongBuffer dst) { gather(BGFXStats.CPUTIMEBEGIN, dst); return this; }
+        /** Copies the {@code cpuTimeEnd} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getCpuTimeEnd(long[] dst) { gather(BGFXStats.CPUTIMEEND, dst); return this; }
+        /** Copies the {@code cpuTimeEnd} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getCpuTimeEnd(LongBuffer dst) { gather(BGFXStats.CPUTIMEEND, dst); return this; }
+        /** Copies the {@code cpuTimerFreq} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getCpuTimerFreq(long[] dst) { gather(BGFXStats.CPUTIMERFREQ, dst); return this; }
+        /** Copies the {@code cpuTimerFreq} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getCpuTimerFreq(LongBuffer dst) { gather(BGFXStats.CPUTIMERFREQ, dst); return this; }
+        /** Copies the {@code gpuTimeBegin} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getGpuTimeBegin(long[] dst) { gather(BGFXStats.GPUTIMEBEGIN, dst); return this; }
+        /** Copies the {@code gpuTimeBegin} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getGpuTimeBegin(LongBuffer dst) { gather(BGFXStats.GPUTIMEBEGIN, dst); return this; }
+        /** Copies the {@code gpuTimeEnd} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getGpuTimeEnd(long[] dst) { gather(BGFXStats.GPUTIMEEND, dst); return this; }
+        /** Copies the {@code gpuTimeEnd} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getGpuTimeEnd(LongBuffer dst) { gather(BGFXStats.GPUTIMEEND, dst); return this; }
+        /** Copies the {@code gpuTimerFreq} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getGpuTimerFreq(long[] dst) { gather(BGFXStats.GPUTIMERFREQ, dst); return this; }
+        /** Copies the {@code gpuTimerFreq} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getGpuTimerFreq(LongBuffer dst) { gather(BGFXStats.GPUTIMERFREQ, dst); return this; }
+        /** Copies the {@code waitRender} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getWaitRender(long[] dst) { gather(BGFXStats.WAITRENDER, dst); return this; }
+        /** Copies the {@code waitRender} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getWaitRender(LongBuffer dst) { gather(BGFXStats.WAITRENDER, dst); return this; }
+        /** Copies the {@code waitSubmit} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getWaitSubmit(long[] dst) { gather(BGFXStats.WAITSUBMIT, dst); return this; }
+        /** Copies the {@code waitSubmit} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getWaitSubmit(LongBuffer dst) { gather(BGFXStats.WAITSUBMIT, dst); return this; }
+        /** Copies the {@code numDraw} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumDraw(int[] dst) { gather(BGFXStats.NUMDRAW, dst); return this; }
+        /** Copies the {@code numDraw} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumDraw(IntBuffer dst) { gather(BGFXStats.NUMDRAW, dst); return this; }
+        /** Copies the {@code numCompute} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumCompute(int[] dst) { gather(BGFXStats.NUMCOMPUTE, dst); return this; }
+        /** Copies the {@code numCompute} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumCompute(IntBuffer dst) { gather(BGFXStats.NUMCOMPUTE, dst); return this; }
+        /** Copies the {@code numBlit} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumBlit(int[] dst) { gather(BGFXStats.NUMBLIT, dst); return this; }
+        /** Copies the {@code numBlit} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumBlit(IntBuffer dst) { gather(BGFXStats.NUMBLIT, dst); return this; }
+        /** Copies the {@code maxGpuLatency} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getMaxGpuLatency(int[] dst) { gather(BGFXStats.MAXGPULATENCY, dst); return this; }
+        /** Copies the {@code maxGpuLatency} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getMaxGpuLatency(IntBuffer dst) { gather(BGFXStats.MAXGPULATENCY, dst); return this; }
+        /** Copies the {@code numDynamicIndexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumDynamicIndexBuffers(short[] dst) { gather(BGFXStats.NUMDYNAMICINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code numDynamicIndexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumDynamicIndexBuffers(ShortBuffer dst) { gather(BGFXStats.NUMDYNAMICINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code numDynamicVertexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumDynamicVertexBuffers(short[] dst) { gather(BGFXStats.NUMDYNAMICVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code numDynamicVertexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumDynamicVertexBuffers(ShortBuffer dst) { gather(BGFXStats.NUMDYNAMICVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code numFrameBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumFrameBuffers(short[] dst) { gather(BGFXStats.NUMFRAMEBUFFERS, dst); return this; }
+        /** Copies the {@code numFrameBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumFrameBuffers(ShortBuffer dst) { gather(BGFXStats.NUMFRAMEBUFFERS, dst); return this; }
+        /** Copies the {@code numIndexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumIndexBuffers(short[] dst) { gather(BGFXStats.NUMINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code numIndexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumIndexBuffers(ShortBuffer dst) { gather(BGFXStats.NUMINDEXBUFFERS, dst); return this; }
+        /** Copies the {@code numOcclusionQueries} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumOcclusionQueries(short[] dst) { gather(BGFXStats.NUMOCCLUSIONQUERIES, dst); return this; }
+        /** Copies the {@code numOcclusionQueries} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumOcclusionQueries(ShortBuffer dst) { gather(BGFXStats.NUMOCCLUSIONQUERIES, dst); return this; }
+        /** Copies the {@code numPrograms} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumPrograms(short[] dst) { gather(BGFXStats.NUMPROGRAMS, dst); return this; }
+        /** Copies the {@code numPrograms} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumPrograms(ShortBuffer dst) { gather(BGFXStats.NUMPROGRAMS, dst); return this; }
+        /** Copies the {@code numShaders} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumShaders(short[] dst) { gather(BGFXStats.NUMSHADERS, dst); return this; }
+        /** Copies the {@code numShaders} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumShaders(ShortBuffer dst) { gather(BGFXStats.NUMSHADERS, dst); return this; }
+        /** Copies the {@code numTextures} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumTextures(short[] dst) { gather(BGFXStats.NUMTEXTURES, dst); return this; }
+        /** Copies the {@code numTextures} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumTextures(ShortBuffer dst) { gather(BGFXStats.NUMTEXTURES, dst); return this; }
+        /** Copies the {@code numUniforms} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumUniforms(short[] dst) { gather(BGFXStats.NUMUNIFORMS, dst); return this; }
+        /** Copies the {@code numUniforms} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumUniforms(ShortBuffer dst) { gather(BGFXStats.NUMUNIFORMS, dst); return this; }
+        /** Copies the {@code numVertexBuffers} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumVertexBuffers(short[] dst) { gather(BGFXStats.NUMVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code numVertexBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumVertexBuffers(ShortBuffer dst) { gather(BGFXStats.NUMVERTEXBUFFERS, dst); return this; }
+        /** Copies the {@code numVertexLayouts} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumVertexLayouts(short[] dst) { gather(BGFXStats.NUMVERTEXLAYOUTS, dst); return this; }
+        /** Copies the {@code numVertexLayouts} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumVertexLayouts(ShortBuffer dst) { gather(BGFXStats.NUMVERTEXLAYOUTS, dst); return this; }
+        /** Copies the {@code textureMemoryUsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getTextureMemoryUsed(long[] dst) { gather(BGFXStats.TEXTUREMEMORYUSED, dst); return this; }
+        /** Copies the {@code textureMemoryUsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getTextureMemoryUsed(LongBuffer dst) { gather(BGFXStats.TEXTUREMEMORYUSED, dst); return this; }
+        /** Copies the {@code rtMemoryUsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getRtMemoryUsed(long[] dst) { gather(BGFXStats.RTMEMORYUSED, dst); return this; }
+        /** Copies the {@code rtMemoryUsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getRtMemoryUsed(LongBuffer dst) { gather(BGFXStats.RTMEMORYUSED, dst); return this; }
+        /** Copies the {@code transientVbUsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getTransientVbUsed(int[] dst) { gather(BGFXStats.TRANSIENTVBUSED, dst); return this; }
+        /** Copies the {@code transientVbUsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getTransientVbUsed(IntBuffer dst) { gather(BGFXStats.TRANSIENTVBUSED, dst); return this; }
+        /** Copies the {@code transientIbUsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getTransientIbUsed(int[] dst) { gather(BGFXStats.TRANSIENTIBUSED, dst); return this; }
+        /** Copies the {@code transientIbUsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getTransientIbUsed(IntBuffer dst) { gather(BGFXStats.TRANSIENTIBUSED, dst); return this; }
+        /** Copies the {@code gpuMemoryMax} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getGpuMemoryMax(long[] dst) { gather(BGFXStats.GPUMEMORYMAX, dst); return this; }
+        /** Copies the {@code gpuMemoryMax} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getGpuMemoryMax(LongBuffer dst) { gather(BGFXStats.GPUMEMORYMAX, dst); return this; }
+        /** Copies the {@code gpuMemoryUsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getGpuMemoryUsed(long[] dst) { gather(BGFXStats.GPUMEMORYUSED, dst); return this; }
+        /** Copies the {@code gpuMemoryUsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getGpuMemoryUsed(LongBuffer dst) { gather(BGFXStats.GPUMEMORYUSED, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getWidth(short[] dst) { gather(BGFXStats.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getWidth(ShortBuffer dst) { gather(BGFXStats.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getHeight(short[] dst) { gather(BGFXStats.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getHeight(ShortBuffer dst) { gather(BGFXStats.HEIGHT, dst); return this; }
+        /** Copies the {@code textWidth} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getTextWidth(short[] dst) { gather(BGFXStats.TEXTWIDTH, dst); return this; }
+        /** Copies the {@code textWidth} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getTextWidth(ShortBuffer dst) { gather(BGFXStats.TEXTWIDTH, dst); return this; }
+        /** Copies the {@code textHeight} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getTextHeight(short[] dst) { gather(BGFXStats.TEXTHEIGHT, dst); return this; }
+        /** Copies the {@code textHeight} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getTextHeight(ShortBuffer dst) { gather(BGFXStats.TEXTHEIGHT, dst); return this; }
+        /** Copies the {@code numViews} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumViews(short[] dst) { gather(BGFXStats.NUMVIEWS, dst); return this; }
+        /** Copies the {@code numViews} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumViews(ShortBuffer dst) { gather(BGFXStats.NUMVIEWS, dst); return this; }
+        /** Copies the {@code numEncoders} field of the structs between the current position and limit to the specified array. */
+        public BGFXStats.Buffer getNumEncoders(short[] dst) { gather(BGFXStats.NUMENCODERS, dst); return this; }
+        /** Copies the {@code numEncoders} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXStats.Buffer getNumEncoders(ShortBuffer dst) { gather(BGFXStats.NUMENCODERS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -239,6 +239,24 @@ public class BGFXTextureInfo extends Struct implements NativeResource {
         return wrap(BGFXTextureInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXTextureInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTextureInfo malloc(MemoryArena arena) {
+        return wrap(BGFXTextureInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXTextureInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTextureInfo calloc(MemoryArena arena) {
+        return wrap(BGFXTextureInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXTextureInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class BGFXTextureInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXTextureInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTextureInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXTextureInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTextureInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #format}. */
@@ -364,6 +402,39 @@ public class BGFXTextureInfo extends Struct implements NativeResource {
         @NativeType("bool")
         public boolean cubeMap() { return BGFXTextureInfo.ncubeMap(address()); }
 
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getFormat(int[] dst) { gather(BGFXTextureInfo.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getFormat(IntBuffer dst) { gather(BGFXTextureInfo.FORMAT, dst); return this; }
+        /** Copies the {@code storageSize} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getStorageSize(int[] dst) { gather(BGFXTextureInfo.STORAGESIZE, dst); return this; }
+        /** Copies the {@code storageSize} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getStorageSize(IntBuffer dst) { gather(BGFXTextureInfo.STORAGESIZE, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getWidth(short[] dst) { gather(BGFXTextureInfo.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getWidth(ShortBuffer dst) { gather(BGFXTextureInfo.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getHeight(short[] dst) { gather(BGFXTextureInfo.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getHeight(ShortBuffer dst) { gather(BGFXTextureInfo.HEIGHT, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getDepth(short[] dst) { gather(BGFXTextureInfo.DEPTH, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getDepth(ShortBuffer dst) { gather(BGFXTextureInfo.DEPTH, dst); return this; }
+        /** Copies the {@code numLayers} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getNumLayers(short[] dst) { gather(BGFXTextureInfo.NUMLAYERS, dst); return this; }
+        /** Copies the {@code numLayers} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getNumLayers(ShortBuffer dst) { gather(BGFXTextureInfo.NUMLAYERS, dst); return this; }
+        /** Copies the {@code numMips} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getNumMips(byte[] dst) { gather(BGFXTextureInfo.NUMMIPS, dst); return this; }
+        /** Copies the {@code numMips} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getNumMips(ByteBuffer dst) { gather(BGFXTextureInfo.NUMMIPS, dst); return this; }
+        /** Copies the {@code bitsPerPixel} field of the structs between the current position and limit to the specified array. */
+        public BGFXTextureInfo.Buffer getBitsPerPixel(byte[] dst) { gather(BGFXTextureInfo.BITSPERPIXEL, dst); return this; }
+        /** Copies the {@code bitsPerPixel} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTextureInfo.Buffer getBitsPerPixel(ByteBuffer dst) { gather(BGFXTextureInfo.BITSPERPIXEL, dst); return this; }
+
     }
 
 }
\ No newline at end of file
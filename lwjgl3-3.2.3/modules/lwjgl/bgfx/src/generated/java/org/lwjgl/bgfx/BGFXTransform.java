@@ -183,6 +183,24 @@ public class BGFXTransform extends Struct implements NativeResource {
         return wrap(BGFXTransform.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXTransform} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTransform malloc(MemoryArena arena) {
+        return wrap(BGFXTransform.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXTransform} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTransform calloc(MemoryArena arena) {
+        return wrap(BGFXTransform.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXTransform.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -221,6 +239,26 @@ public class BGFXTransform extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXTransform.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTransform.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXTransform.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTransform.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data() data}. */
@@ -273,6 +311,11 @@ public class BGFXTransform extends Struct implements NativeResource {
         @NativeType("uint16_t")
         public short num() { return BGFXTransform.nnum(address()); }
 
+        /** Copies the {@code num} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransform.Buffer getNum(short[] dst) { gather(BGFXTransform.NUM, dst); return this; }
+        /** Copies the {@code num} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransform.Buffer getNum(ShortBuffer dst) { gather(BGFXTransform.NUM, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -232,6 +232,24 @@ public class BGFXTransientIndexBuffer extends Struct implements NativeResource {
         return wrap(BGFXTransientIndexBuffer.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXTransientIndexBuffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTransientIndexBuffer malloc(MemoryArena arena) {
+        return wrap(BGFXTransientIndexBuffer.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXTransientIndexBuffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTransientIndexBuffer calloc(MemoryArena arena) {
+        return wrap(BGFXTransientIndexBuffer.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXTransientIndexBuffer.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class BGFXTransientIndexBuffer extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXTransientIndexBuffer.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTransientIndexBuffer.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXTransientIndexBuffer.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTransientIndexBuffer.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data() data}. */
@@ -369,6 +407,28 @@ public class BGFXTransientIndexBuffer extends Struct implements NativeResource {
         /** Sets the specified value to the {@code handle} field. */
         public BGFXTransientIndexBuffer.Buffer handle(@NativeType("bgfx_index_buffer_handle_t") short value) { BGFXTransientIndexBuffer.nhandle(address(), value); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientIndexBuffer.Buffer getSize(int[] dst) { gather(BGFXTransientIndexBuffer.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientIndexBuffer.Buffer getSize(IntBuffer dst) { gather(BGFXTransientIndexBuffer.SIZE, dst); return this; }
+        /** Copies the {@code startIndex} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientIndexBuffer.Buffer getStartIndex(int[] dst) { gather(BGFXTransientIndexBuffer.STARTINDEX, dst); return this; }
+        /** Copies the {@code startIndex} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientIndexBuffer.Buffer getStartIndex(IntBuffer dst) { gather(BGFXTransientIndexBuffer.STARTINDEX, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientIndexBuffer.Buffer getHandle(short[] dst) { gather(BGFXTransientIndexBuffer.HANDLE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientIndexBuffer.Buffer getHandle(ShortBuffer dst) { gather(BGFXTransientIndexBuffer.HANDLE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code startIndex} field of the structs between the current position and limit. */
+        public BGFXTransientIndexBuffer.Buffer putStartIndex(int[] src) { scatter(BGFXTransientIndexBuffer.STARTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code startIndex} field of the structs between the current position and limit. */
+        public BGFXTransientIndexBuffer.Buffer putStartIndex(IntBuffer src) { scatter(BGFXTransientIndexBuffer.STARTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXTransientIndexBuffer.Buffer putHandle(short[] src) { scatter(BGFXTransientIndexBuffer.HANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXTransientIndexBuffer.Buffer putHandle(ShortBuffer src) { scatter(BGFXTransientIndexBuffer.HANDLE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,24 @@ public class BGFXTransientVertexBuffer extends Struct implements NativeResource
         return wrap(BGFXTransientVertexBuffer.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXTransientVertexBuffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTransientVertexBuffer malloc(MemoryArena arena) {
+        return wrap(BGFXTransientVertexBuffer.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXTransientVertexBuffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXTransientVertexBuffer calloc(MemoryArena arena) {
+        return wrap(BGFXTransientVertexBuffer.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXTransientVertexBuffer.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class BGFXTransientVertexBuffer extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXTransientVertexBuffer.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTransientVertexBuffer.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXTransientVertexBuffer.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXTransientVertexBuffer.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data() data}. */
@@ -411,6 +449,44 @@ public class BGFXTransientVertexBuffer extends Struct implements NativeResource
         /** Sets the specified value to the {@code layoutHandle} field. */
         public BGFXTransientVertexBuffer.Buffer layoutHandle(@NativeType("bgfx_vertex_layout_handle_t") short value) { BGFXTransientVertexBuffer.nlayoutHandle(address(), value); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientVertexBuffer.Buffer getSize(int[] dst) { gather(BGFXTransientVertexBuffer.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientVertexBuffer.Buffer getSize(IntBuffer dst) { gather(BGFXTransientVertexBuffer.SIZE, dst); return this; }
+        /** Copies the {@code startVertex} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientVertexBuffer.Buffer getStartVertex(int[] dst) { gather(BGFXTransientVertexBuffer.STARTVERTEX, dst); return this; }
+        /** Copies the {@code startVertex} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientVertexBuffer.Buffer getStartVertex(IntBuffer dst) { gather(BGFXTransientVertexBuffer.STARTVERTEX, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientVertexBuffer.Buffer getStride(short[] dst) { gather(BGFXTransientVertexBuffer.STRIDE, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientVertexBuffer.Buffer getStride(ShortBuffer dst) { gather(BGFXTransientVertexBuffer.STRIDE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientVertexBuffer.Buffer getHandle(short[] dst) { gather(BGFXTransientVertexBuffer.HANDLE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientVertexBuffer.Buffer getHandle(ShortBuffer dst) { gather(BGFXTransientVertexBuffer.HANDLE, dst); return this; }
+        /** Copies the {@code layoutHandle} field of the structs between the current position and limit to the specified array. */
+        public BGFXTransientVertexBuffer.Buffer getLayoutHandle(short[] dst) { gather(BGFXTransientVertexBuffer.LAYOUTHANDLE, dst); return this; }
+        /** Copies the {@code layoutHandle} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXTransientVertexBuffer.Buffer getLayoutHandle(ShortBuffer dst) { gather(BGFXTransientVertexBuffer.LAYOUTHANDLE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code startVertex} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putStartVertex(int[] src) { scatter(BGFXTransientVertexBuffer.STARTVERTEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code startVertex} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putStartVertex(IntBuffer src) { scatter(BGFXTransientVertexBuffer.STARTVERTEX, src); return this; }
+        /** Copies the values in the specified array to the {@code stride} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putStride(short[] src) { scatter(BGFXTransientVertexBuffer.STRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stride} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putStride(ShortBuffer src) { scatter(BGFXTransientVertexBuffer.STRIDE, src); return this; }
+        /** Copies the values in the specified array to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putHandle(short[] src) { scatter(BGFXTransientVertexBuffer.HANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handle} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putHandle(ShortBuffer src) { scatter(BGFXTransientVertexBuffer.HANDLE, src); return this; }
+        /** Copies the values in the specified array to the {@code layoutHandle} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putLayoutHandle(short[] src) { scatter(BGFXTransientVertexBuffer.LAYOUTHANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layoutHandle} field of the structs between the current position and limit. */
+        public BGFXTransientVertexBuffer.Buffer putLayoutHandle(ShortBuffer src) { scatter(BGFXTransientVertexBuffer.LAYOUTHANDLE, src); return this; }
+
     }
 
 }
\ No newline at end of file
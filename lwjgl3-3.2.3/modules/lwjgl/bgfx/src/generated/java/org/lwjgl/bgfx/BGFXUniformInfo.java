@@ -227,6 +227,24 @@ public class BGFXUniformInfo extends Struct implements NativeResource {
         return wrap(BGFXUniformInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXUniformInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXUniformInfo malloc(MemoryArena arena) {
+        return wrap(BGFXUniformInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXUniformInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXUniformInfo calloc(MemoryArena arena) {
+        return wrap(BGFXUniformInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXUniformInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -265,6 +283,26 @@ public class BGFXUniformInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXUniformInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXUniformInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXUniformInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXUniformInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #name}. */
@@ -347,6 +385,24 @@ public class BGFXUniformInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code num} field. */
         public BGFXUniformInfo.Buffer num(@NativeType("uint16_t") short value) { BGFXUniformInfo.nnum(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public BGFXUniformInfo.Buffer getType(int[] dst) { gather(BGFXUniformInfo.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXUniformInfo.Buffer getType(IntBuffer dst) { gather(BGFXUniformInfo.TYPE, dst); return this; }
+        /** Copies the {@code num} field of the structs between the current position and limit to the specified array. */
+        public BGFXUniformInfo.Buffer getNum(short[] dst) { gather(BGFXUniformInfo.NUM, dst); return this; }
+        /** Copies the {@code num} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXUniformInfo.Buffer getNum(ShortBuffer dst) { gather(BGFXUniformInfo.NUM, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public BGFXUniformInfo.Buffer putType(int[] src) { scatter(BGFXUniformInfo.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public BGFXUniformInfo.Buffer putType(IntBuffer src) { scatter(BGFXUniformInfo.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code num} field of the structs between the current position and limit. */
+        public BGFXUniformInfo.Buffer putNum(short[] src) { scatter(BGFXUniformInfo.NUM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num} field of the structs between the current position and limit. */
+        public BGFXUniformInfo.Buffer putNum(ShortBuffer src) { scatter(BGFXUniformInfo.NUM, src); return this; }
+
     }
 
 }
\ No newline at end of file
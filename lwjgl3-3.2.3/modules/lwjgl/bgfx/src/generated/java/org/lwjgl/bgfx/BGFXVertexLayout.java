@@ -246,6 +246,24 @@ public class BGFXVertexLayout extends Struct implements NativeResource {
         return wrap(BGFXVertexLayout.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BGFXVertexLayout} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXVertexLayout malloc(MemoryArena arena) {
+        return wrap(BGFXVertexLayout.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BGFXVertexLayout} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BGFXVertexLayout calloc(MemoryArena arena) {
+        return wrap(BGFXVertexLayout.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BGFXVertexLayout.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class BGFXVertexLayout extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BGFXVertexLayout.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXVertexLayout.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BGFXVertexLayout.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BGFXVertexLayout.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #hash}. */
@@ -396,6 +434,24 @@ public class BGFXVertexLayout extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code attributes} field. */
         public BGFXVertexLayout.Buffer attributes(int index, @NativeType("uint16_t") short value) { BGFXVertexLayout.nattributes(address(), index, value); return this; }
 
+        /** Copies the {@code hash} field of the structs between the current position and limit to the specified array. */
+        public BGFXVertexLayout.Buffer getHash(int[] dst) { gather(BGFXVertexLayout.HASH, dst); return this; }
+        /** Copies the {@code hash} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXVertexLayout.Buffer getHash(IntBuffer dst) { gather(BGFXVertexLayout.HASH, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified array. */
+        public BGFXVertexLayout.Buffer getStride(short[] dst) { gather(BGFXVertexLayout.STRIDE, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXVertexLayout.Buffer getStride(ShortBuffer dst) { gather(BGFXVertexLayout.STRIDE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code hash} field of the structs between the current position and limit. */
+        public BGFXVertexLayout.Buffer putHash(int[] src) { scatter(BGFXVertexLayout.HASH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hash} field of the structs between the current position and limit. */
+        public BGFXVertexLayout.Buffer putHash(IntBuffer src) { scatter(BGFXVertexLayout.HASH, src); return this; }
+        /** Copies the values in the specified array to the {@code stride} field of the structs between the current position and limit. */
+        public BGFXVertexLayout.Buffer putStride(short[] src) { scatter(BGFXVertexLayout.STRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stride} field of the structs between the current position and limit. */
+        public BGFXVertexLayout.Buffer putStride(ShortBuffer src) { scatter(BGFXVertexLayout.STRIDE, src); return this; }
+
     }
 
 }
\ No newline at end of file
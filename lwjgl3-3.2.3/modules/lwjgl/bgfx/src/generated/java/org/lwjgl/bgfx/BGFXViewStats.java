@@ -193,6 +193,19 @@ public class BGFXViewStats extends Struct {
         @NativeType("int64_t")
         public long gpuTimeElapsed() { return BGFXViewStats.ngpuTimeElapsed(address()); }
 
+        /** Copies the {@code view} field of the structs between the current position and limit to the specified array. */
+        public BGFXViewStats.Buffer getView(short[] dst) { gather(BGFXViewStats.VIEW, dst); return this; }
+        /** Copies the {@code view} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXViewStats.Buffer getView(ShortBuffer dst) { gather(BGFXViewStats.VIEW, dst); return this; }
+        /** Copies the {@code cpuTimeElapsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXViewStats.Buffer getCpuTimeElapsed(long[] dst) { gather(BGFXViewStats.CPUTIMEELAPSED, dst); return this; }
+        /** Copies the {@code cpuTimeElapsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXViewStats.Buffer getCpuTimeElapsed(LongBuffer dst) { gather(BGFXViewStats.CPUTIMEELAPSED, dst); return this; }
+        /** Copies the {@code gpuTimeElapsed} field of the structs between the current position and limit to the specified array. */
+        public BGFXViewStats.Buffer getGpuTimeElapsed(long[] dst) { gather(BGFXViewStats.GPUTIMEELAPSED, dst); return this; }
+        /** Copies the {@code gpuTimeElapsed} field of the structs between the current position and limit to the specified buffer. */
+        public BGFXViewStats.Buffer getGpuTimeElapsed(LongBuffer dst) { gather(BGFXViewStats.GPUTIMEELAPSED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
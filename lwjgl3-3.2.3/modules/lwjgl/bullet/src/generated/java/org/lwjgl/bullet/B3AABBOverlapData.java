@@ -189,6 +189,24 @@ public class B3AABBOverlapData extends Struct implements NativeResource {
         return wrap(B3AABBOverlapData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3AABBOverlapData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3AABBOverlapData malloc(MemoryArena arena) {
+        return wrap(B3AABBOverlapData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3AABBOverlapData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3AABBOverlapData calloc(MemoryArena arena) {
+        return wrap(B3AABBOverlapData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3AABBOverlapData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3AABBOverlapData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3AABBOverlapData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3AABBOverlapData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3AABBOverlapData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3AABBOverlapData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numOverlappingObjects}. */
@@ -307,6 +345,11 @@ public class B3AABBOverlapData extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3OverlappingObject.Buffer} to the {@code m_overlappingObjects} field. */
         public B3AABBOverlapData.Buffer m_overlappingObjects(@NativeType("struct b3OverlappingObject *") B3OverlappingObject.Buffer value) { B3AABBOverlapData.nm_overlappingObjects(address(), value); return this; }
 
+        /** Copies the {@code m_numOverlappingObjects} field of the structs between the current position and limit to the specified array. */
+        public B3AABBOverlapData.Buffer getM_numOverlappingObjects(int[] dst) { gather(B3AABBOverlapData.M_NUMOVERLAPPINGOBJECTS, dst); return this; }
+        /** Copies the {@code m_numOverlappingObjects} field of the structs between the current position and limit to the specified buffer. */
+        public B3AABBOverlapData.Buffer getM_numOverlappingObjects(IntBuffer dst) { gather(B3AABBOverlapData.M_NUMOVERLAPPINGOBJECTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
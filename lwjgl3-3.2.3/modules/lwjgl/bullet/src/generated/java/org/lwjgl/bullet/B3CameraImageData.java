@@ -246,6 +246,24 @@ public class B3CameraImageData extends Struct implements NativeResource {
         return wrap(B3CameraImageData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3CameraImageData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3CameraImageData malloc(MemoryArena arena) {
+        return wrap(B3CameraImageData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3CameraImageData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3CameraImageData calloc(MemoryArena arena) {
+        return wrap(B3CameraImageData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3CameraImageData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class B3CameraImageData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3CameraImageData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3CameraImageData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3CameraImageData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3CameraImageData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_pixelWidth}. */
@@ -406,6 +444,24 @@ public class B3CameraImageData extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code m_segmentationMaskValues} field. */
         public B3CameraImageData.Buffer m_segmentationMaskValues(@NativeType("int const *") IntBuffer value) { B3CameraImageData.nm_segmentationMaskValues(address(), value); return this; }
 
+        /** Copies the {@code m_pixelWidth} field of the structs between the current position and limit to the specified array. */
+        public B3CameraImageData.Buffer getM_pixelWidth(int[] dst) { gather(B3CameraImageData.M_PIXELWIDTH, dst); return this; }
+        /** Copies the {@code m_pixelWidth} field of the structs between the current position and limit to the specified buffer. */
+        public B3CameraImageData.Buffer getM_pixelWidth(IntBuffer dst) { gather(B3CameraImageData.M_PIXELWIDTH, dst); return this; }
+        /** Copies the {@code m_pixelHeight} field of the structs between the current position and limit to the specified array. */
+        public B3CameraImageData.Buffer getM_pixelHeight(int[] dst) { gather(B3CameraImageData.M_PIXELHEIGHT, dst); return this; }
+        /** Copies the {@code m_pixelHeight} field of the structs between the current position and limit to the specified buffer. */
+        public B3CameraImageData.Buffer getM_pixelHeight(IntBuffer dst) { gather(B3CameraImageData.M_PIXELHEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_pixelWidth} field of the structs between the current position and limit. */
+        public B3CameraImageData.Buffer putM_pixelWidth(int[] src) { scatter(B3CameraImageData.M_PIXELWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_pixelWidth} field of the structs between the current position and limit. */
+        public B3CameraImageData.Buffer putM_pixelWidth(IntBuffer src) { scatter(B3CameraImageData.M_PIXELWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code m_pixelHeight} field of the structs between the current position and limit. */
+        public B3CameraImageData.Buffer putM_pixelHeight(int[] src) { scatter(B3CameraImageData.M_PIXELHEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_pixelHeight} field of the structs between the current position and limit. */
+        public B3CameraImageData.Buffer putM_pixelHeight(IntBuffer src) { scatter(B3CameraImageData.M_PIXELHEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
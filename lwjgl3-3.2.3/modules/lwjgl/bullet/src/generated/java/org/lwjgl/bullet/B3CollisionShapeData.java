@@ -257,6 +257,24 @@ public class B3CollisionShapeData extends Struct implements NativeResource {
         return wrap(B3CollisionShapeData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3CollisionShapeData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3CollisionShapeData malloc(MemoryArena arena) {
+        return wrap(B3CollisionShapeData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3CollisionShapeData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3CollisionShapeData calloc(MemoryArena arena) {
+        return wrap(B3CollisionShapeData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3CollisionShapeData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -295,6 +313,26 @@ public class B3CollisionShapeData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3CollisionShapeData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3CollisionShapeData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3CollisionShapeData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3CollisionShapeData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_objectUniqueId}. */
@@ -431,6 +469,32 @@ public class B3CollisionShapeData extends Struct implements NativeResource {
         /** Copies the specified encoded string to the {@code m_meshAssetFileName} field. */
         public B3CollisionShapeData.Buffer m_meshAssetFileName(@NativeType("char[VISUAL_SHAPE_MAX_PATH_LEN]") ByteBuffer value) { B3CollisionShapeData.nm_meshAssetFileName(address(), value); return this; }
 
+        /** Copies the {@code m_objectUniqueId} field of the structs between the current position and limit to the specified array. */
+        public B3CollisionShapeData.Buffer getM_objectUniqueId(int[] dst) { gather(B3CollisionShapeData.M_OBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_objectUniqueId} field of the structs between the current position and limit to the specified buffer. */
+        public B3CollisionShapeData.Buffer getM_objectUniqueId(IntBuffer dst) { gather(B3CollisionShapeData.M_OBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_linkIndex} field of the structs between the current position and limit to the specified array. */
+        public B3CollisionShapeData.Buffer getM_linkIndex(int[] dst) { gather(B3CollisionShapeData.M_LINKINDEX, dst); return this; }
+        /** Copies the {@code m_linkIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3CollisionShapeData.Buffer getM_linkIndex(IntBuffer dst) { gather(B3CollisionShapeData.M_LINKINDEX, dst); return this; }
+        /** Copies the {@code m_collisionGeometryType} field of the structs between the current position and limit to the specified array. */
+        public B3CollisionShapeData.Buffer getM_collisionGeometryType(int[] dst) { gather(B3CollisionShapeData.M_COLLISIONGEOMETRYTYPE, dst); return this; }
+        /** Copies the {@code m_collisionGeometryType} field of the structs between the current position and limit to the specified buffer. */
+        public B3CollisionShapeData.Buffer getM_collisionGeometryType(IntBuffer dst) { gather(B3CollisionShapeData.M_COLLISIONGEOMETRYTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_objectUniqueId} field of the structs between the current position and limit. */
+        public B3CollisionShapeData.Buffer putM_objectUniqueId(int[] src) { scatter(B3CollisionShapeData.M_OBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_objectUniqueId} field of the structs between the current position and limit. */
+        public B3CollisionShapeData.Buffer putM_objectUniqueId(IntBuffer src) { scatter(B3CollisionShapeData.M_OBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linkIndex} field of the structs between the current position and limit. */
+        public B3CollisionShapeData.Buffer putM_linkIndex(int[] src) { scatter(B3CollisionShapeData.M_LINKINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linkIndex} field of the structs between the current position and limit. */
+        public B3CollisionShapeData.Buffer putM_linkIndex(IntBuffer src) { scatter(B3CollisionShapeData.M_LINKINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_collisionGeometryType} field of the structs between the current position and limit. */
+        public B3CollisionShapeData.Buffer putM_collisionGeometryType(int[] src) { scatter(B3CollisionShapeData.M_COLLISIONGEOMETRYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_collisionGeometryType} field of the structs between the current position and limit. */
+        public B3CollisionShapeData.Buffer putM_collisionGeometryType(IntBuffer src) { scatter(B3CollisionShapeData.M_COLLISIONGEOMETRYTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class B3CollisionShapeInformation extends Struct implements NativeResourc
         return wrap(B3CollisionShapeInformation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3CollisionShapeInformation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3CollisionShapeInformation malloc(MemoryArena arena) {
+        return wrap(B3CollisionShapeInformation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3CollisionShapeInformation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3CollisionShapeInformation calloc(MemoryArena arena) {
+        return wrap(B3CollisionShapeInformation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3CollisionShapeInformation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3CollisionShapeInformation extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3CollisionShapeInformation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3CollisionShapeInformation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3CollisionShapeInformation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3CollisionShapeInformation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numCollisionShapes}. */
@@ -307,6 +345,11 @@ public class B3CollisionShapeInformation extends Struct implements NativeResourc
         /** Sets the address of the specified {@link B3CollisionShapeData.Buffer} to the {@code m_collisionShapeData} field. */
         public B3CollisionShapeInformation.Buffer m_collisionShapeData(@NativeType("struct b3CollisionShapeData *") B3CollisionShapeData.Buffer value) { B3CollisionShapeInformation.nm_collisionShapeData(address(), value); return this; }
 
+        /** Copies the {@code m_numCollisionShapes} field of the structs between the current position and limit to the specified array. */
+        public B3CollisionShapeInformation.Buffer getM_numCollisionShapes(int[] dst) { gather(B3CollisionShapeInformation.M_NUMCOLLISIONSHAPES, dst); return this; }
+        /** Copies the {@code m_numCollisionShapes} field of the structs between the current position and limit to the specified buffer. */
+        public B3CollisionShapeInformation.Buffer getM_numCollisionShapes(IntBuffer dst) { gather(B3CollisionShapeInformation.M_NUMCOLLISIONSHAPES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class B3ContactInformation extends Struct implements NativeResource {
         return wrap(B3ContactInformation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3ContactInformation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3ContactInformation malloc(MemoryArena arena) {
+        return wrap(B3ContactInformation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3ContactInformation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3ContactInformation calloc(MemoryArena arena) {
+        return wrap(B3ContactInformation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3ContactInformation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3ContactInformation extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3ContactInformation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3ContactInformation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3ContactInformation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3ContactInformation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numContactPoints}. */
@@ -307,6 +345,11 @@ public class B3ContactInformation extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3ContactPointData.Buffer} to the {@code m_contactPointData} field. */
         public B3ContactInformation.Buffer m_contactPointData(@NativeType("struct b3ContactPointData *") B3ContactPointData.Buffer value) { B3ContactInformation.nm_contactPointData(address(), value); return this; }
 
+        /** Copies the {@code m_numContactPoints} field of the structs between the current position and limit to the specified array. */
+        public B3ContactInformation.Buffer getM_numContactPoints(int[] dst) { gather(B3ContactInformation.M_NUMCONTACTPOINTS, dst); return this; }
+        /** Copies the {@code m_numContactPoints} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactInformation.Buffer getM_numContactPoints(IntBuffer dst) { gather(B3ContactInformation.M_NUMCONTACTPOINTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -346,6 +346,24 @@ public class B3ContactPointData extends Struct implements NativeResource {
         return wrap(B3ContactPointData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3ContactPointData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3ContactPointData malloc(MemoryArena arena) {
+        return wrap(B3ContactPointData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3ContactPointData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3ContactPointData calloc(MemoryArena arena) {
+        return wrap(B3ContactPointData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3ContactPointData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -384,6 +402,26 @@ public class B3ContactPointData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3ContactPointData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3ContactPointData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3ContactPointData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3ContactPointData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_contactFlags}. */
@@ -620,6 +658,80 @@ public class B3ContactPointData extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code m_linearFrictionDirection2} field. */
         public B3ContactPointData.Buffer m_linearFrictionDirection2(int index, double value) { B3ContactPointData.nm_linearFrictionDirection2(address(), index, value); return this; }
 
+        /** Copies the {@code m_contactFlags} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_contactFlags(int[] dst) { gather(B3ContactPointData.M_CONTACTFLAGS, dst); return this; }
+        /** Copies the {@code m_contactFlags} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_contactFlags(IntBuffer dst) { gather(B3ContactPointData.M_CONTACTFLAGS, dst); return this; }
+        /** Copies the {@code m_bodyUniqueIdA} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_bodyUniqueIdA(int[] dst) { gather(B3ContactPointData.M_BODYUNIQUEIDA, dst); return this; }
+        /** Copies the {@code m_bodyUniqueIdA} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_bodyUniqueIdA(IntBuffer dst) { gather(B3ContactPointData.M_BODYUNIQUEIDA, dst); return this; }
+        /** Copies the {@code m_bodyUniqueIdB} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_bodyUniqueIdB(int[] dst) { gather(B3ContactPointData.M_BODYUNIQUEIDB, dst); return this; }
+        /** Copies the {@code m_bodyUniqueIdB} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_bodyUniqueIdB(IntBuffer dst) { gather(B3ContactPointData.M_BODYUNIQUEIDB, dst); return this; }
+        /** Copies the {@code m_linkIndexA} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_linkIndexA(int[] dst) { gather(B3ContactPointData.M_LINKINDEXA, dst); return this; }
+        /** Copies the {@code m_linkIndexA} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_linkIndexA(IntBuffer dst) { gather(B3ContactPointData.M_LINKINDEXA, dst); return this; }
+        /** Copies the {@code m_linkIndexB} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_linkIndexB(int[] dst) { gather(B3ContactPointData.M_LINKINDEXB, dst); return this; }
+        /** Copies the {@code m_linkIndexB} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_linkIndexB(IntBuffer dst) { gather(B3ContactPointData.M_LINKINDEXB, dst); return this; }
+        /** Copies the {@code m_contactDistance} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_contactDistance(double[] dst) { gather(B3ContactPointData.M_CONTACTDISTANCE, dst); return this; }
+        /** Copies the {@code m_contactDistance} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_contactDistance(DoubleBuffer dst) { gather(B3ContactPointData.M_CONTACTDISTANCE, dst); return this; }
+        /** Copies the {@code m_normalForce} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_normalForce(double[] dst) { gather(B3ContactPointData.M_NORMALFORCE, dst); return this; }
+        /** Copies the {@code m_normalForce} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_normalForce(DoubleBuffer dst) { gather(B3ContactPointData.M_NORMALFORCE, dst); return this; }
+        /** Copies the {@code m_linearFrictionForce1} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_linearFrictionForce1(double[] dst) { gather(B3ContactPointData.M_LINEARFRICTIONFORCE1, dst); return this; }
+        /** Copies the {@code m_linearFrictionForce1} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_linearFrictionForce1(DoubleBuffer dst) { gather(B3ContactPointData.M_LINEARFRICTIONFORCE1, dst); return this; }
+        /** Copies the {@code m_linearFrictionForce2} field of the structs between the current position and limit to the specified array. */
+        public B3ContactPointData.Buffer getM_linearFrictionForce2(double[] dst) { gather(B3ContactPointData.M_LINEARFRICTIONFORCE2, dst); return this; }
+        /** Copies the {@code m_linearFrictionForce2} field of the structs between the current position and limit to the specified buffer. */
+        public B3ContactPointData.Buffer getM_linearFrictionForce2(DoubleBuffer dst) { gather(B3ContactPointData.M_LINEARFRICTIONFORCE2, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_contactFlags} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_contactFlags(int[] src) { scatter(B3ContactPointData.M_CONTACTFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactFlags} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_contactFlags(IntBuffer src) { scatter(B3ContactPointData.M_CONTACTFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_bodyUniqueIdA} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_bodyUniqueIdA(int[] src) { scatter(B3ContactPointData.M_BODYUNIQUEIDA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_bodyUniqueIdA} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_bodyUniqueIdA(IntBuffer src) { scatter(B3ContactPointData.M_BODYUNIQUEIDA, src); return this; }
+        /** Copies the values in the specified array to the {@code m_bodyUniqueIdB} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_bodyUniqueIdB(int[] src) { scatter(B3ContactPointData.M_BODYUNIQUEIDB, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_bodyUniqueIdB} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_bodyUniqueIdB(IntBuffer src) { scatter(B3ContactPointData.M_BODYUNIQUEIDB, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linkIndexA} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linkIndexA(int[] src) { scatter(B3ContactPointData.M_LINKINDEXA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linkIndexA} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linkIndexA(IntBuffer src) { scatter(B3ContactPointData.M_LINKINDEXA, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linkIndexB} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linkIndexB(int[] src) { scatter(B3ContactPointData.M_LINKINDEXB, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linkIndexB} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linkIndexB(IntBuffer src) { scatter(B3ContactPointData.M_LINKINDEXB, src); return this; }
+        /** Copies the values in the specified array to the {@code m_contactDistance} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_contactDistance(double[] src) { scatter(B3ContactPointData.M_CONTACTDISTANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactDistance} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_contactDistance(DoubleBuffer src) { scatter(B3ContactPointData.M_CONTACTDISTANCE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_normalForce} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_normalForce(double[] src) { scatter(B3ContactPointData.M_NORMALFORCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_normalForce} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_normalForce(DoubleBuffer src) { scatter(B3ContactPointData.M_NORMALFORCE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linearFrictionForce1} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linearFrictionForce1(double[] src) { scatter(B3ContactPointData.M_LINEARFRICTIONFORCE1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linearFrictionForce1} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linearFrictionForce1(DoubleBuffer src) { scatter(B3ContactPointData.M_LINEARFRICTIONFORCE1, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linearFrictionForce2} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linearFrictionForce2(double[] src) { scatter(B3ContactPointData.M_LINEARFRICTIONFORCE2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linearFrictionForce2} field of the structs between the current position and limit. */
+        public B3ContactPointData.Buffer putM_linearFrictionForce2(DoubleBuffer src) { scatter(B3ContactPointData.M_LINEARFRICTIONFORCE2, src); return this; }
+
     }
 
 }
\ No newline at end of file
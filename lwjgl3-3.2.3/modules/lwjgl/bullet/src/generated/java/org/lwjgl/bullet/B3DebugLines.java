@@ -224,6 +224,24 @@ public class B3DebugLines extends Struct implements NativeResource {
         return wrap(B3DebugLines.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3DebugLines} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3DebugLines malloc(MemoryArena arena) {
+        return wrap(B3DebugLines.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3DebugLines} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3DebugLines calloc(MemoryArena arena) {
+        return wrap(B3DebugLines.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3DebugLines.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class B3DebugLines extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3DebugLines.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3DebugLines.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3DebugLines.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3DebugLines.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numDebugLines}. */
@@ -364,6 +402,16 @@ public class B3DebugLines extends Struct implements NativeResource {
         /** Sets the address of the specified {@link FloatBuffer} to the {@code m_linesColor} field. */
         public B3DebugLines.Buffer m_linesColor(@NativeType("float const *") FloatBuffer value) { B3DebugLines.nm_linesColor(address(), value); return this; }
 
+        /** Copies the {@code m_numDebugLines} field of the structs between the current position and limit to the specified array. */
+        public B3DebugLines.Buffer getM_numDebugLines(int[] dst) { gather(B3DebugLines.M_NUMDEBUGLINES, dst); return this; }
+        /** Copies the {@code m_numDebugLines} field of the structs between the current position and limit to the specified buffer. */
+        public B3DebugLines.Buffer getM_numDebugLines(IntBuffer dst) { gather(B3DebugLines.M_NUMDEBUGLINES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_numDebugLines} field of the structs between the current position and limit. */
+        public B3DebugLines.Buffer putM_numDebugLines(int[] src) { scatter(B3DebugLines.M_NUMDEBUGLINES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_numDebugLines} field of the structs between the current position and limit. */
+        public B3DebugLines.Buffer putM_numDebugLines(IntBuffer src) { scatter(B3DebugLines.M_NUMDEBUGLINES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -341,6 +341,24 @@ public class B3DynamicsInfo extends Struct implements NativeResource {
         return wrap(B3DynamicsInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3DynamicsInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3DynamicsInfo malloc(MemoryArena arena) {
+        return wrap(B3DynamicsInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3DynamicsInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3DynamicsInfo calloc(MemoryArena arena) {
+        return wrap(B3DynamicsInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3DynamicsInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -379,6 +397,26 @@ public class B3DynamicsInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3DynamicsInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3DynamicsInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3DynamicsInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3DynamicsInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_mass}. */
@@ -575,6 +613,112 @@ public class B3DynamicsInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_frictionAnchor} field. */
         public B3DynamicsInfo.Buffer m_frictionAnchor(int value) { B3DynamicsInfo.nm_frictionAnchor(address(), value); return this; }
 
+        /** Copies the {@code m_mass} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_mass(double[] dst) { gather(B3DynamicsInfo.M_MASS, dst); return this; }
+        /** Copies the {@code m_mass} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_mass(DoubleBuffer dst) { gather(B3DynamicsInfo.M_MASS, dst); return this; }
+        /** Copies the {@code m_lateralFrictionCoeff} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_lateralFrictionCoeff(double[] dst) { gather(B3DynamicsInfo.M_LATERALFRICTIONCOEFF, dst); return this; }
+        /** Copies the {@code m_lateralFrictionCoeff} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_lateralFrictionCoeff(DoubleBuffer dst) { gather(B3DynamicsInfo.M_LATERALFRICTIONCOEFF, dst); return this; }
+        /** Copies the {@code m_rollingFrictionCoeff} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_rollingFrictionCoeff(double[] dst) { gather(B3DynamicsInfo.M_ROLLINGFRICTIONCOEFF, dst); return this; }
+        /** Copies the {@code m_rollingFrictionCoeff} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_rollingFrictionCoeff(DoubleBuffer dst) { gather(B3DynamicsInfo.M_ROLLINGFRICTIONCOEFF, dst); return this; }
+        /** Copies the {@code m_spinningFrictionCoeff} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_spinningFrictionCoeff(double[] dst) { gather(B3DynamicsInfo.M_SPINNINGFRICTIONCOEFF, dst); return this; }
+        /** Copies the {@code m_spinningFrictionCoeff} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_spinningFrictionCoeff(DoubleBuffer dst) { gather(B3DynamicsInfo.M_SPINNINGFRICTIONCOEFF, dst); return this; }
+        /** Copies the {@code m_restitution} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_restitution(double[] dst) { gather(B3DynamicsInfo.M_RESTITUTION, dst); return this; }
+        /** Copies the {@code m_restitution} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_restitution(DoubleBuffer dst) { gather(B3DynamicsInfo.M_RESTITUTION, dst); return this; }
+        /** Copies the {@code m_contactStiffness} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_contactStiffness(double[] dst) { gather(B3DynamicsInfo.M_CONTACTSTIFFNESS, dst); return this; }
+        /** Copies the {@code m_contactStiffness} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_contactStiffness(DoubleBuffer dst) { gather(B3DynamicsInfo.M_CONTACTSTIFFNESS, dst); return this; }
+        /** Copies the {@code m_contactDamping} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_contactDamping(double[] dst) { gather(B3DynamicsInfo.M_CONTACTDAMPING, dst); return this; }
+        /** Copies the {@code m_contactDamping} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_contactDamping(DoubleBuffer dst) { gather(B3DynamicsInfo.M_CONTACTDAMPING, dst); return this; }
+        /** Copies the {@code m_activationState} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_activationState(int[] dst) { gather(B3DynamicsInfo.M_ACTIVATIONSTATE, dst); return this; }
+        /** Copies the {@code m_activationState} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_activationState(IntBuffer dst) { gather(B3DynamicsInfo.M_ACTIVATIONSTATE, dst); return this; }
+        /** Copies the {@code m_angularDamping} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_angularDamping(double[] dst) { gather(B3DynamicsInfo.M_ANGULARDAMPING, dst); return this; }
+        /** Copies the {@code m_angularDamping} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_angularDamping(DoubleBuffer dst) { gather(B3DynamicsInfo.M_ANGULARDAMPING, dst); return this; }
+        /** Copies the {@code m_linearDamping} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_linearDamping(double[] dst) { gather(B3DynamicsInfo.M_LINEARDAMPING, dst); return this; }
+        /** Copies the {@code m_linearDamping} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_linearDamping(DoubleBuffer dst) { gather(B3DynamicsInfo.M_LINEARDAMPING, dst); return this; }
+        /** Copies the {@code m_ccdSweptSphereRadius} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_ccdSweptSphereRadius(double[] dst) { gather(B3DynamicsInfo.M_CCDSWEPTSPHERERADIUS, dst); return this; }
+        /** Copies the {@code m_ccdSweptSphereRadius} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_ccdSweptSphereRadius(DoubleBuffer dst) { gather(B3DynamicsInfo.M_CCDSWEPTSPHERERADIUS, dst); return this; }
+        /** Copies the {@code m_contactProcessingThreshold} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_contactProcessingThreshold(double[] dst) { gather(B3DynamicsInfo.M_CONTACTPROCESSINGTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_contactProcessingThreshold} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_contactProcessingThreshold(DoubleBuffer dst) { gather(B3DynamicsInfo.M_CONTACTPROCESSINGTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_frictionAnchor} field of the structs between the current position and limit to the specified array. */
+        public B3DynamicsInfo.Buffer getM_frictionAnchor(int[] dst) { gather(B3DynamicsInfo.M_FRICTIONANCHOR, dst); return this; }
+        /** Copies the {@code m_frictionAnchor} field of the structs between the current position and limit to the specified buffer. */
+        public B3DynamicsInfo.Buffer getM_frictionAnchor(IntBuffer dst) { gather(B3DynamicsInfo.M_FRICTIONANCHOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_mass} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_mass(double[] src) { scatter(B3DynamicsInfo.M_MASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_mass} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_mass(DoubleBuffer src) { scatter(B3DynamicsInfo.M_MASS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_lateralFrictionCoeff} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_lateralFrictionCoeff(double[] src) { scatter(B3DynamicsInfo.M_LATERALFRICTIONCOEFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_lateralFrictionCoeff} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_lateralFrictionCoeff(DoubleBuffer src) { scatter(B3DynamicsInfo.M_LATERALFRICTIONCOEFF, src); return this; }
+        /** Copies the values in the specified array to the {@code m_rollingFrictionCoeff} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_rollingFrictionCoeff(double[] src) { scatter(B3DynamicsInfo.M_ROLLINGFRICTIONCOEFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_rollingFrictionCoeff} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_rollingFrictionCoeff(DoubleBuffer src) { scatter(B3DynamicsInfo.M_ROLLINGFRICTIONCOEFF, src); return this; }
+        /** Copies the values in the specified array to the {@code m_spinningFrictionCoeff} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_spinningFrictionCoeff(double[] src) { scatter(B3DynamicsInfo.M_SPINNINGFRICTIONCOEFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_spinningFrictionCoeff} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_spinningFrictionCoeff(DoubleBuffer src) { scatter(B3DynamicsInfo.M_SPINNINGFRICTIONCOEFF, src); return this; }
+        /** Copies the values in the specified array to the {@code m_restitution} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_restitution(double[] src) { scatter(B3DynamicsInfo.M_RESTITUTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_restitution} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_restitution(DoubleBuffer src) { scatter(B3DynamicsInfo.M_RESTITUTION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_contactStiffness} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_contactStiffness(double[] src) { scatter(B3DynamicsInfo.M_CONTACTSTIFFNESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactStiffness} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_contactStiffness(DoubleBuffer src) { scatter(B3DynamicsInfo.M_CONTACTSTIFFNESS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_contactDamping} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_contactDamping(double[] src) { scatter(B3DynamicsInfo.M_CONTACTDAMPING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactDamping} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_contactDamping(DoubleBuffer src) { scatter(B3DynamicsInfo.M_CONTACTDAMPING, src); return this; }
+        /** Copies the values in the specified array to the {@code m_activationState} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_activationState(int[] src) { scatter(B3DynamicsInfo.M_ACTIVATIONSTATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_activationState} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_activationState(IntBuffer src) { scatter(B3DynamicsInfo.M_ACTIVATIONSTATE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_angularDamping} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_angularDamping(double[] src) { scatter(B3DynamicsInfo.M_ANGULARDAMPING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_angularDamping} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_angularDamping(DoubleBuffer src) { scatter(B3DynamicsInfo.M_ANGULARDAMPING, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linearDamping} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_linearDamping(double[] src) { scatter(B3DynamicsInfo.M_LINEARDAMPING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linearDamping} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_linearDamping(DoubleBuffer src) { scatter(B3DynamicsInfo.M_LINEARDAMPING, src); return this; }
+        /** Copies the values in the specified array to the {@code m_ccdSweptSphereRadius} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_ccdSweptSphereRadius(double[] src) { scatter(B3DynamicsInfo.M_CCDSWEPTSPHERERADIUS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_ccdSweptSphereRadius} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_ccdSweptSphereRadius(DoubleBuffer src) { scatter(B3DynamicsInfo.M_CCDSWEPTSPHERERADIUS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_contactProcessingThreshold} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_contactProcessingThreshold(double[] src) { scatter(B3DynamicsInfo.M_CONTACTPROCESSINGTHRESHOLD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactProcessingThreshold} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_contactProcessingThreshold(DoubleBuffer src) { scatter(B3DynamicsInfo.M_CONTACTPROCESSINGTHRESHOLD, src); return this; }
+        /** Copies the values in the specified array to the {@code m_frictionAnchor} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_frictionAnchor(int[] src) { scatter(B3DynamicsInfo.M_FRICTIONANCHOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_frictionAnchor} field of the structs between the current position and limit. */
+        public B3DynamicsInfo.Buffer putM_frictionAnchor(IntBuffer src) { scatter(B3DynamicsInfo.M_FRICTIONANCHOR, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -402,6 +402,24 @@ public class B3JointInfo extends Struct implements NativeResource {
         return wrap(B3JointInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3JointInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3JointInfo malloc(MemoryArena arena) {
+        return wrap(B3JointInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3JointInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3JointInfo calloc(MemoryArena arena) {
+        return wrap(B3JointInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3JointInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -440,6 +458,26 @@ public class B3JointInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3JointInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3JointInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3JointInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3JointInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_linkName}. */
@@ -708,6 +746,120 @@ public class B3JointInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_uSize} field. */
         public B3JointInfo.Buffer m_uSize(int value) { B3JointInfo.nm_uSize(address(), value); return this; }
 
+        /** Copies the {@code m_jointType} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointType(int[] dst) { gather(B3JointInfo.M_JOINTTYPE, dst); return this; }
+        /** Copies the {@code m_jointType} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointType(IntBuffer dst) { gather(B3JointInfo.M_JOINTTYPE, dst); return this; }
+        /** Copies the {@code m_qIndex} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_qIndex(int[] dst) { gather(B3JointInfo.M_QINDEX, dst); return this; }
+        /** Copies the {@code m_qIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_qIndex(IntBuffer dst) { gather(B3JointInfo.M_QINDEX, dst); return this; }
+        /** Copies the {@code m_uIndex} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_uIndex(int[] dst) { gather(B3JointInfo.M_UINDEX, dst); return this; }
+        /** Copies the {@code m_uIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_uIndex(IntBuffer dst) { gather(B3JointInfo.M_UINDEX, dst); return this; }
+        /** Copies the {@code m_jointIndex} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointIndex(int[] dst) { gather(B3JointInfo.M_JOINTINDEX, dst); return this; }
+        /** Copies the {@code m_jointIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointIndex(IntBuffer dst) { gather(B3JointInfo.M_JOINTINDEX, dst); return this; }
+        /** Copies the {@code m_flags} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_flags(int[] dst) { gather(B3JointInfo.M_FLAGS, dst); return this; }
+        /** Copies the {@code m_flags} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_flags(IntBuffer dst) { gather(B3JointInfo.M_FLAGS, dst); return this; }
+        /** Copies the {@code m_jointDamping} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointDamping(double[] dst) { gather(B3JointInfo.M_JOINTDAMPING, dst); return this; }
+        /** Copies the {@code m_jointDamping} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointDamping(DoubleBuffer dst) { gather(B3JointInfo.M_JOINTDAMPING, dst); return this; }
+        /** Copies the {@code m_jointFriction} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointFriction(double[] dst) { gather(B3JointInfo.M_JOINTFRICTION, dst); return this; }
+        /** Copies the {@code m_jointFriction} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointFriction(DoubleBuffer dst) { gather(B3JointInfo.M_JOINTFRICTION, dst); return this; }
+        /** Copies the {@code m_jointLowerLimit} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointLowerLimit(double[] dst) { gather(B3JointInfo.M_JOINTLOWERLIMIT, dst); return this; }
+        /** Copies the {@code m_jointLowerLimit} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointLowerLimit(DoubleBuffer dst) { gather(B3JointInfo.M_JOINTLOWERLIMIT, dst); return this; }
+        /** Copies the {@code m_jointUpperLimit} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointUpperLimit(double[] dst) { gather(B3JointInfo.M_JOINTUPPERLIMIT, dst); return this; }
+        /** Copies the {@code m_jointUpperLimit} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointUpperLimit(DoubleBuffer dst) { gather(B3JointInfo.M_JOINTUPPERLIMIT, dst); return this; }
+        /** Copies the {@code m_jointMaxForce} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointMaxForce(double[] dst) { gather(B3JointInfo.M_JOINTMAXFORCE, dst); return this; }
+        /** Copies the {@code m_jointMaxForce} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointMaxForce(DoubleBuffer dst) { gather(B3JointInfo.M_JOINTMAXFORCE, dst); return this; }
+        /** Copies the {@code m_jointMaxVelocity} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_jointMaxVelocity(double[] dst) { gather(B3JointInfo.M_JOINTMAXVELOCITY, dst); return this; }
+        /** Copies the {@code m_jointMaxVelocity} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_jointMaxVelocity(DoubleBuffer dst) { gather(B3JointInfo.M_JOINTMAXVELOCITY, dst); return this; }
+        /** Copies the {@code m_parentIndex} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_parentIndex(int[] dst) { gather(B3JointInfo.M_PARENTINDEX, dst); return this; }
+        /** Copies the {@code m_parentIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_parentIndex(IntBuffer dst) { gather(B3JointInfo.M_PARENTINDEX, dst); return this; }
+        /** Copies the {@code m_qSize} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_qSize(int[] dst) { gather(B3JointInfo.M_QSIZE, dst); return this; }
+        /** Copies the {@code m_qSize} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_qSize(IntBuffer dst) { gather(B3JointInfo.M_QSIZE, dst); return this; }
+        /** Copies the {@code m_uSize} field of the structs between the current position and limit to the specified array. */
+        public B3JointInfo.Buffer getM_uSize(int[] dst) { gather(B3JointInfo.M_USIZE, dst); return this; }
+        /** Copies the {@code m_uSize} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointInfo.Buffer getM_uSize(IntBuffer dst) { gather(B3JointInfo.M_USIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_jointType} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointType(int[] src) { scatter(B3JointInfo.M_JOINTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointType} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointType(IntBuffer src) { scatter(B3JointInfo.M_JOINTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_qIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_qIndex(int[] src) { scatter(B3JointInfo.M_QINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_qIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_qIndex(IntBuffer src) { scatter(B3JointInfo.M_QINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_uIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_uIndex(int[] src) { scatter(B3JointInfo.M_UINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_uIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_uIndex(IntBuffer src) { scatter(B3JointInfo.M_UINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointIndex(int[] src) { scatter(B3JointInfo.M_JOINTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointIndex(IntBuffer src) { scatter(B3JointInfo.M_JOINTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_flags} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_flags(int[] src) { scatter(B3JointInfo.M_FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flags} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_flags(IntBuffer src) { scatter(B3JointInfo.M_FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointDamping} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointDamping(double[] src) { scatter(B3JointInfo.M_JOINTDAMPING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointDamping} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointDamping(DoubleBuffer src) { scatter(B3JointInfo.M_JOINTDAMPING, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointFriction} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointFriction(double[] src) { scatter(B3JointInfo.M_JOINTFRICTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointFriction} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointFriction(DoubleBuffer src) { scatter(B3JointInfo.M_JOINTFRICTION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointLowerLimit} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointLowerLimit(double[] src) { scatter(B3JointInfo.M_JOINTLOWERLIMIT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointLowerLimit} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointLowerLimit(DoubleBuffer src) { scatter(B3JointInfo.M_JOINTLOWERLIMIT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointUpperLimit} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointUpperLimit(double[] src) { scatter(B3JointInfo.M_JOINTUPPERLIMIT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointUpperLimit} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointUpperLimit(DoubleBuffer src) { scatter(B3JointInfo.M_JOINTUPPERLIMIT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointMaxForce} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointMaxForce(double[] src) { scatter(B3JointInfo.M_JOINTMAXFORCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointMaxForce} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointMaxForce(DoubleBuffer src) { scatter(B3JointInfo.M_JOINTMAXFORCE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointMaxVelocity} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointMaxVelocity(double[] src) { scatter(B3JointInfo.M_JOINTMAXVELOCITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointMaxVelocity} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_jointMaxVelocity(DoubleBuffer src) { scatter(B3JointInfo.M_JOINTMAXVELOCITY, src); return this; }
+        /** Copies the values in the specified array to the {@code m_parentIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_parentIndex(int[] src) { scatter(B3JointInfo.M_PARENTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_parentIndex} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_parentIndex(IntBuffer src) { scatter(B3JointInfo.M_PARENTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_qSize} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_qSize(int[] src) { scatter(B3JointInfo.M_QSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_qSize} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_qSize(IntBuffer src) { scatter(B3JointInfo.M_QSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_uSize} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_uSize(int[] src) { scatter(B3JointInfo.M_USIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_uSize} field of the structs between the current position and limit. */
+        public B3JointInfo.Buffer putM_uSize(IntBuffer src) { scatter(B3JointInfo.M_USIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -226,6 +226,24 @@ public class B3JointSensorState extends Struct implements NativeResource {
         return wrap(B3JointSensorState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3JointSensorState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3JointSensorState malloc(MemoryArena arena) {
+        return wrap(B3JointSensorState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3JointSensorState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3JointSensorState calloc(MemoryArena arena) {
+        return wrap(B3JointSensorState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3JointSensorState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -264,6 +282,26 @@ public class B3JointSensorState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3JointSensorState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3JointSensorState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3JointSensorState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3JointSensorState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_jointPosition}. */
@@ -356,6 +394,32 @@ public class B3JointSensorState extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_jointMotorTorque} field. */
         public B3JointSensorState.Buffer m_jointMotorTorque(double value) { B3JointSensorState.nm_jointMotorTorque(address(), value); return this; }
 
+        /** Copies the {@code m_jointPosition} field of the structs between the current position and limit to the specified array. */
+        public B3JointSensorState.Buffer getM_jointPosition(double[] dst) { gather(B3JointSensorState.M_JOINTPOSITION, dst); return this; }
+        /** Copies the {@code m_jointPosition} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointSensorState.Buffer getM_jointPosition(DoubleBuffer dst) { gather(B3JointSensorState.M_JOINTPOSITION, dst); return this; }
+        /** Copies the {@code m_jointVelocity} field of the structs between the current position and limit to the specified array. */
+        public B3JointSensorState.Buffer getM_jointVelocity(double[] dst) { gather(B3JointSensorState.M_JOINTVELOCITY, dst); return this; }
+        /** Copies the {@code m_jointVelocity} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointSensorState.Buffer getM_jointVelocity(DoubleBuffer dst) { gather(B3JointSensorState.M_JOINTVELOCITY, dst); return this; }
+        /** Copies the {@code m_jointMotorTorque} field of the structs between the current position and limit to the specified array. */
+        public B3JointSensorState.Buffer getM_jointMotorTorque(double[] dst) { gather(B3JointSensorState.M_JOINTMOTORTORQUE, dst); return this; }
+        /** Copies the {@code m_jointMotorTorque} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointSensorState.Buffer getM_jointMotorTorque(DoubleBuffer dst) { gather(B3JointSensorState.M_JOINTMOTORTORQUE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_jointPosition} field of the structs between the current position and limit. */
+        public B3JointSensorState.Buffer putM_jointPosition(double[] src) { scatter(B3JointSensorState.M_JOINTPOSITION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointPosition} field of the structs between the current position and limit. */
+        public B3JointSensorState.Buffer putM_jointPosition(DoubleBuffer src) { scatter(B3JointSensorState.M_JOINTPOSITION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointVelocity} field of the structs between the current position and limit. */
+        public B3JointSensorState.Buffer putM_jointVelocity(double[] src) { scatter(B3JointSensorState.M_JOINTVELOCITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointVelocity} field of the structs between the current position and limit. */
+        public B3JointSensorState.Buffer putM_jointVelocity(DoubleBuffer src) { scatter(B3JointSensorState.M_JOINTVELOCITY, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointMotorTorque} field of the structs between the current position and limit. */
+        public B3JointSensorState.Buffer putM_jointMotorTorque(double[] src) { scatter(B3JointSensorState.M_JOINTMOTORTORQUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointMotorTorque} field of the structs between the current position and limit. */
+        public B3JointSensorState.Buffer putM_jointMotorTorque(DoubleBuffer src) { scatter(B3JointSensorState.M_JOINTMOTORTORQUE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,24 @@ public class B3JointSensorState2 extends Struct implements NativeResource {
         return wrap(B3JointSensorState2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3JointSensorState2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3JointSensorState2 malloc(MemoryArena arena) {
+        return wrap(B3JointSensorState2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3JointSensorState2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3JointSensorState2 calloc(MemoryArena arena) {
+        return wrap(B3JointSensorState2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3JointSensorState2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class B3JointSensorState2 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3JointSensorState2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3JointSensorState2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3JointSensorState2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3JointSensorState2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_jointPosition}. */
@@ -434,6 +472,32 @@ public class B3JointSensorState2 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_uDofSize} field. */
         public B3JointSensorState2.Buffer m_uDofSize(int value) { B3JointSensorState2.nm_uDofSize(address(), value); return this; }
 
+        /** Copies the {@code m_jointMotorTorque} field of the structs between the current position and limit to the specified array. */
+        public B3JointSensorState2.Buffer getM_jointMotorTorque(double[] dst) { gather(B3JointSensorState2.M_JOINTMOTORTORQUE, dst); return this; }
+        /** Copies the {@code m_jointMotorTorque} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointSensorState2.Buffer getM_jointMotorTorque(DoubleBuffer dst) { gather(B3JointSensorState2.M_JOINTMOTORTORQUE, dst); return this; }
+        /** Copies the {@code m_qDofSize} field of the structs between the current position and limit to the specified array. */
+        public B3JointSensorState2.Buffer getM_qDofSize(int[] dst) { gather(B3JointSensorState2.M_QDOFSIZE, dst); return this; }
+        /** Copies the {@code m_qDofSize} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointSensorState2.Buffer getM_qDofSize(IntBuffer dst) { gather(B3JointSensorState2.M_QDOFSIZE, dst); return this; }
+        /** Copies the {@code m_uDofSize} field of the structs between the current position and limit to the specified array. */
+        public B3JointSensorState2.Buffer getM_uDofSize(int[] dst) { gather(B3JointSensorState2.M_UDOFSIZE, dst); return this; }
+        /** Copies the {@code m_uDofSize} field of the structs between the current position and limit to the specified buffer. */
+        public B3JointSensorState2.Buffer getM_uDofSize(IntBuffer dst) { gather(B3JointSensorState2.M_UDOFSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_jointMotorTorque} field of the structs between the current position and limit. */
+        public B3JointSensorState2.Buffer putM_jointMotorTorque(double[] src) { scatter(B3JointSensorState2.M_JOINTMOTORTORQUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointMotorTorque} field of the structs between the current position and limit. */
+        public B3JointSensorState2.Buffer putM_jointMotorTorque(DoubleBuffer src) { scatter(B3JointSensorState2.M_JOINTMOTORTORQUE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_qDofSize} field of the structs between the current position and limit. */
+        public B3JointSensorState2.Buffer putM_qDofSize(int[] src) { scatter(B3JointSensorState2.M_QDOFSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_qDofSize} field of the structs between the current position and limit. */
+        public B3JointSensorState2.Buffer putM_qDofSize(IntBuffer src) { scatter(B3JointSensorState2.M_QDOFSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_uDofSize} field of the structs between the current position and limit. */
+        public B3JointSensorState2.Buffer putM_uDofSize(int[] src) { scatter(B3JointSensorState2.M_UDOFSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_uDofSize} field of the structs between the current position and limit. */
+        public B3JointSensorState2.Buffer putM_uDofSize(IntBuffer src) { scatter(B3JointSensorState2.M_UDOFSIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
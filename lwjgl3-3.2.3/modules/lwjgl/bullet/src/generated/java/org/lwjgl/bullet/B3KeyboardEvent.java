@@ -200,6 +200,24 @@ public class B3KeyboardEvent extends Struct implements NativeResource {
         return wrap(B3KeyboardEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3KeyboardEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3KeyboardEvent malloc(MemoryArena arena) {
+        return wrap(B3KeyboardEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3KeyboardEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3KeyboardEvent calloc(MemoryArena arena) {
+        return wrap(B3KeyboardEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3KeyboardEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -238,6 +256,26 @@ public class B3KeyboardEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3KeyboardEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3KeyboardEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3KeyboardEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3KeyboardEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_keyCode}. */
@@ -298,6 +336,24 @@ public class B3KeyboardEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_keyState} field. */
         public B3KeyboardEvent.Buffer m_keyState(int value) { B3KeyboardEvent.nm_keyState(address(), value); return this; }
 
+        /** Copies the {@code m_keyCode} field of the structs between the current position and limit to the specified array. */
+        public B3KeyboardEvent.Buffer getM_keyCode(int[] dst) { gather(B3KeyboardEvent.M_KEYCODE, dst); return this; }
+        /** Copies the {@code m_keyCode} field of the structs between the current position and limit to the specified buffer. */
+        public B3KeyboardEvent.Buffer getM_keyCode(IntBuffer dst) { gather(B3KeyboardEvent.M_KEYCODE, dst); return this; }
+        /** Copies the {@code m_keyState} field of the structs between the current position and limit to the specified array. */
+        public B3KeyboardEvent.Buffer getM_keyState(int[] dst) { gather(B3KeyboardEvent.M_KEYSTATE, dst); return this; }
+        /** Copies the {@code m_keyState} field of the structs between the current position and limit to the specified buffer. */
+        public B3KeyboardEvent.Buffer getM_keyState(IntBuffer dst) { gather(B3KeyboardEvent.M_KEYSTATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_keyCode} field of the structs between the current position and limit. */
+        public B3KeyboardEvent.Buffer putM_keyCode(int[] src) { scatter(B3KeyboardEvent.M_KEYCODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_keyCode} field of the structs between the current position and limit. */
+        public B3KeyboardEvent.Buffer putM_keyCode(IntBuffer src) { scatter(B3KeyboardEvent.M_KEYCODE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_keyState} field of the structs between the current position and limit. */
+        public B3KeyboardEvent.Buffer putM_keyState(int[] src) { scatter(B3KeyboardEvent.M_KEYSTATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_keyState} field of the structs between the current position and limit. */
+        public B3KeyboardEvent.Buffer putM_keyState(IntBuffer src) { scatter(B3KeyboardEvent.M_KEYSTATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
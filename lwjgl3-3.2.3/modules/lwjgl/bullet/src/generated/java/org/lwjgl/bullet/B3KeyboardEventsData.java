@@ -189,6 +189,24 @@ public class B3KeyboardEventsData extends Struct implements NativeResource {
         return wrap(B3KeyboardEventsData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3KeyboardEventsData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3KeyboardEventsData malloc(MemoryArena arena) {
+        return wrap(B3KeyboardEventsData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3KeyboardEventsData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3KeyboardEventsData calloc(MemoryArena arena) {
+        return wrap(B3KeyboardEventsData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3KeyboardEventsData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3KeyboardEventsData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3KeyboardEventsData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3KeyboardEventsData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3KeyboardEventsData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3KeyboardEventsData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numKeyboardEvents}. */
@@ -307,6 +345,11 @@ public class B3KeyboardEventsData extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3KeyboardEvent.Buffer} to the {@code m_keyboardEvents} field. */
         public B3KeyboardEventsData.Buffer m_keyboardEvents(@NativeType("struct b3KeyboardEvent *") B3KeyboardEvent.Buffer value) { B3KeyboardEventsData.nm_keyboardEvents(address(), value); return this; }
 
+        /** Copies the {@code m_numKeyboardEvents} field of the structs between the current position and limit to the specified array. */
+        public B3KeyboardEventsData.Buffer getM_numKeyboardEvents(int[] dst) { gather(B3KeyboardEventsData.M_NUMKEYBOARDEVENTS, dst); return this; }
+        /** Copies the {@code m_numKeyboardEvents} field of the structs between the current position and limit to the specified buffer. */
+        public B3KeyboardEventsData.Buffer getM_numKeyboardEvents(IntBuffer dst) { gather(B3KeyboardEventsData.M_NUMKEYBOARDEVENTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
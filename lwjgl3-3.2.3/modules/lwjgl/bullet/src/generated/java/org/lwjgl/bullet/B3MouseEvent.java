@@ -230,6 +230,24 @@ public class B3MouseEvent extends Struct implements NativeResource {
         return wrap(B3MouseEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3MouseEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3MouseEvent malloc(MemoryArena arena) {
+        return wrap(B3MouseEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3MouseEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3MouseEvent calloc(MemoryArena arena) {
+        return wrap(B3MouseEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3MouseEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class B3MouseEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3MouseEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3MouseEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3MouseEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3MouseEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_eventType}. */
@@ -352,6 +390,48 @@ public class B3MouseEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_buttonState} field. */
         public B3MouseEvent.Buffer m_buttonState(int value) { B3MouseEvent.nm_buttonState(address(), value); return this; }
 
+        /** Copies the {@code m_eventType} field of the structs between the current position and limit to the specified array. */
+        public B3MouseEvent.Buffer getM_eventType(int[] dst) { gather(B3MouseEvent.M_EVENTTYPE, dst); return this; }
+        /** Copies the {@code m_eventType} field of the structs between the current position and limit to the specified buffer. */
+        public B3MouseEvent.Buffer getM_eventType(IntBuffer dst) { gather(B3MouseEvent.M_EVENTTYPE, dst); return this; }
+        /** Copies the {@code m_mousePosX} field of the structs between the current position and limit to the specified array. */
+        public B3MouseEvent.Buffer getM_mousePosX(float[] dst) { gather(B3MouseEvent.M_MOUSEPOSX, dst); return this; }
+        /** Copies the {@code m_mousePosX} field of the structs between the current position and limit to the specified buffer. */
+        public B3MouseEvent.Buffer getM_mousePosX(FloatBuffer dst) { gather(B3MouseEvent.M_MOUSEPOSX, dst); return this; }
+        /** Copies the {@code m_mousePosY} field of the structs between the current position and limit to the specified array. */
+        public B3MouseEvent.Buffer getM_mousePosY(float[] dst) { gather(B3MouseEvent.M_MOUSEPOSY, dst); return this; }
+        /** Copies the {@code m_mousePosY} field of the structs between the current position and limit to the specified buffer. */
+        public B3MouseEvent.Buffer getM_mousePosY(FloatBuffer dst) { gather(B3MouseEvent.M_MOUSEPOSY, dst); return this; }
+        /** Copies the {@code m_buttonIndex} field of the structs between the current position and limit to the specified array. */
+        public B3MouseEvent.Buffer getM_buttonIndex(int[] dst) { gather(B3MouseEvent.M_BUTTONINDEX, dst); return this; }
+        /** Copies the {@code m_buttonIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3MouseEvent.Buffer getM_buttonIndex(IntBuffer dst) { gather(B3MouseEvent.M_BUTTONINDEX, dst); return this; }
+        /** Copies the {@code m_buttonState} field of the structs between the current position and limit to the specified array. */
+        public B3MouseEvent.Buffer getM_buttonState(int[] dst) { gather(B3MouseEvent.M_BUTTONSTATE, dst); return this; }
+        /** Copies the {@code m_buttonState} field of the structs between the current position and limit to the specified buffer. */
+        public B3MouseEvent.Buffer getM_buttonState(IntBuffer dst) { gather(B3MouseEvent.M_BUTTONSTATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_eventType} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_eventType(int[] src) { scatter(B3MouseEvent.M_EVENTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_eventType} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_eventType(IntBuffer src) { scatter(B3MouseEvent.M_EVENTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_mousePosX} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_mousePosX(float[] src) { scatter(B3MouseEvent.M_MOUSEPOSX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_mousePosX} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_mousePosX(FloatBuffer src) { scatter(B3MouseEvent.M_MOUSEPOSX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_mousePosY} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_mousePosY(float[] src) { scatter(B3MouseEvent.M_MOUSEPOSY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_mousePosY} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_mousePosY(FloatBuffer src) { scatter(B3MouseEvent.M_MOUSEPOSY, src); return this; }
+        /** Copies the values in the specified array to the {@code m_buttonIndex} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_buttonIndex(int[] src) { scatter(B3MouseEvent.M_BUTTONINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_buttonIndex} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_buttonIndex(IntBuffer src) { scatter(B3MouseEvent.M_BUTTONINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_buttonState} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_buttonState(int[] src) { scatter(B3MouseEvent.M_BUTTONSTATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_buttonState} field of the structs between the current position and limit. */
+        public B3MouseEvent.Buffer putM_buttonState(IntBuffer src) { scatter(B3MouseEvent.M_BUTTONSTATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class B3MouseEventsData extends Struct implements NativeResource {
         return wrap(B3MouseEventsData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3MouseEventsData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3MouseEventsData malloc(MemoryArena arena) {
+        return wrap(B3MouseEventsData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3MouseEventsData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3MouseEventsData calloc(MemoryArena arena) {
+        return wrap(B3MouseEventsData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3MouseEventsData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3MouseEventsData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3MouseEventsData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3MouseEventsData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3MouseEventsData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3MouseEventsData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numMouseEvents}. */
@@ -307,6 +345,11 @@ public class B3MouseEventsData extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3MouseEvent.Buffer} to the {@code m_mouseEvents} field. */
         public B3MouseEventsData.Buffer m_mouseEvents(@NativeType("struct b3MouseEvent *") B3MouseEvent.Buffer value) { B3MouseEventsData.nm_mouseEvents(address(), value); return this; }
 
+        /** Copies the {@code m_numMouseEvents} field of the structs between the current position and limit to the specified array. */
+        public B3MouseEventsData.Buffer getM_numMouseEvents(int[] dst) { gather(B3MouseEventsData.M_NUMMOUSEEVENTS, dst); return this; }
+        /** Copies the {@code m_numMouseEvents} field of the structs between the current position and limit to the specified buffer. */
+        public B3MouseEventsData.Buffer getM_numMouseEvents(IntBuffer dst) { gather(B3MouseEventsData.M_NUMMOUSEEVENTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -336,6 +336,24 @@ public class B3OpenGLVisualizerCameraInfo extends Struct implements NativeResour
         return wrap(B3OpenGLVisualizerCameraInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3OpenGLVisualizerCameraInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3OpenGLVisualizerCameraInfo malloc(MemoryArena arena) {
+        return wrap(B3OpenGLVisualizerCameraInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3OpenGLVisualizerCameraInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3OpenGLVisualizerCameraInfo calloc(MemoryArena arena) {
+        return wrap(B3OpenGLVisualizerCameraInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3OpenGLVisualizerCameraInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -374,6 +392,26 @@ public class B3OpenGLVisualizerCameraInfo extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3OpenGLVisualizerCameraInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3OpenGLVisualizerCameraInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3OpenGLVisualizerCameraInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3OpenGLVisualizerCameraInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_width}. */
@@ -626,6 +664,48 @@ public class B3OpenGLVisualizerCameraInfo extends Struct implements NativeResour
         /** Sets the specified value at the specified index of the {@code m_target} field. */
         public B3OpenGLVisualizerCameraInfo.Buffer m_target(int index, float value) { B3OpenGLVisualizerCameraInfo.nm_target(address(), index, value); return this; }
 
+        /** Copies the {@code m_width} field of the structs between the current position and limit to the specified array. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_width(int[] dst) { gather(B3OpenGLVisualizerCameraInfo.M_WIDTH, dst); return this; }
+        /** Copies the {@code m_width} field of the structs between the current position and limit to the specified buffer. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_width(IntBuffer dst) { gather(B3OpenGLVisualizerCameraInfo.M_WIDTH, dst); return this; }
+        /** Copies the {@code m_height} field of the structs between the current position and limit to the specified array. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_height(int[] dst) { gather(B3OpenGLVisualizerCameraInfo.M_HEIGHT, dst); return this; }
+        /** Copies the {@code m_height} field of the structs between the current position and limit to the specified buffer. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_height(IntBuffer dst) { gather(B3OpenGLVisualizerCameraInfo.M_HEIGHT, dst); return this; }
+        /** Copies the {@code m_yaw} field of the structs between the current position and limit to the specified array. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_yaw(float[] dst) { gather(B3OpenGLVisualizerCameraInfo.M_YAW, dst); return this; }
+        /** Copies the {@code m_yaw} field of the structs between the current position and limit to the specified buffer. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_yaw(FloatBuffer dst) { gather(B3OpenGLVisualizerCameraInfo.M_YAW, dst); return this; }
+        /** Copies the {@code m_pitch} field of the structs between the current position and limit to the specified array. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_pitch(float[] dst) { gather(B3OpenGLVisualizerCameraInfo.M_PITCH, dst); return this; }
+        /** Copies the {@code m_pitch} field of the structs between the current position and limit to the specified buffer. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_pitch(FloatBuffer dst) { gather(B3OpenGLVisualizerCameraInfo.M_PITCH, dst); return this; }
+        /** Copies the {@code m_dist} field of the structs between the current position and limit to the specified array. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_dist(float[] dst) { gather(B3OpenGLVisualizerCameraInfo.M_DIST, dst); return this; }
+        /** Copies the {@code m_dist} field of the structs between the current position and limit to the specified buffer. */
+        public B3OpenGLVisualizerCameraInfo.Buffer getM_dist(FloatBuffer dst) { gather(B3OpenGLVisualizerCameraInfo.M_DIST, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_width} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_width(int[] src) { scatter(B3OpenGLVisualizerCameraInfo.M_WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_width} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_width(IntBuffer src) { scatter(B3OpenGLVisualizerCameraInfo.M_WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code m_height} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_height(int[] src) { scatter(B3OpenGLVisualizerCameraInfo.M_HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_height} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_height(IntBuffer src) { scatter(B3OpenGLVisualizerCameraInfo.M_HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_yaw} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_yaw(float[] src) { scatter(B3OpenGLVisualizerCameraInfo.M_YAW, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_yaw} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_yaw(FloatBuffer src) { scatter(B3OpenGLVisualizerCameraInfo.M_YAW, src); return this; }
+        /** Copies the values in the specified array to the {@code m_pitch} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_pitch(float[] src) { scatter(B3OpenGLVisualizerCameraInfo.M_PITCH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_pitch} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_pitch(FloatBuffer src) { scatter(B3OpenGLVisualizerCameraInfo.M_PITCH, src); return this; }
+        /** Copies the values in the specified array to the {@code m_dist} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_dist(float[] src) { scatter(B3OpenGLVisualizerCameraInfo.M_DIST, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_dist} field of the structs between the current position and limit. */
+        public B3OpenGLVisualizerCameraInfo.Buffer putM_dist(FloatBuffer src) { scatter(B3OpenGLVisualizerCameraInfo.M_DIST, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -200,6 +200,24 @@ public class B3OverlappingObject extends Struct implements NativeResource {
         return wrap(B3OverlappingObject.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3OverlappingObject} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3OverlappingObject malloc(MemoryArena arena) {
+        return wrap(B3OverlappingObject.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3OverlappingObject} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3OverlappingObject calloc(MemoryArena arena) {
+        return wrap(B3OverlappingObject.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3OverlappingObject.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -238,6 +256,26 @@ public class B3OverlappingObject extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3OverlappingObject.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3OverlappingObject.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3OverlappingObject.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3OverlappingObject.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_objectUniqueId}. */
@@ -298,6 +336,24 @@ public class B3OverlappingObject extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_linkIndex} field. */
         public B3OverlappingObject.Buffer m_linkIndex(int value) { B3OverlappingObject.nm_linkIndex(address(), value); return this; }
 
+        /** Copies the {@code m_objectUniqueId} field of the structs between the current position and limit to the specified array. */
+        public B3OverlappingObject.Buffer getM_objectUniqueId(int[] dst) { gather(B3OverlappingObject.M_OBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_objectUniqueId} field of the structs between the current position and limit to the specified buffer. */
+        public B3OverlappingObject.Buffer getM_objectUniqueId(IntBuffer dst) { gather(B3OverlappingObject.M_OBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_linkIndex} field of the structs between the current position and limit to the specified array. */
+        public B3OverlappingObject.Buffer getM_linkIndex(int[] dst) { gather(B3OverlappingObject.M_LINKINDEX, dst); return this; }
+        /** Copies the {@code m_linkIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3OverlappingObject.Buffer getM_linkIndex(IntBuffer dst) { gather(B3OverlappingObject.M_LINKINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_objectUniqueId} field of the structs between the current position and limit. */
+        public B3OverlappingObject.Buffer putM_objectUniqueId(int[] src) { scatter(B3OverlappingObject.M_OBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_objectUniqueId} field of the structs between the current position and limit. */
+        public B3OverlappingObject.Buffer putM_objectUniqueId(IntBuffer src) { scatter(B3OverlappingObject.M_OBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linkIndex} field of the structs between the current position and limit. */
+        public B3OverlappingObject.Buffer putM_linkIndex(int[] src) { scatter(B3OverlappingObject.M_LINKINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linkIndex} field of the structs between the current position and limit. */
+        public B3OverlappingObject.Buffer putM_linkIndex(IntBuffer src) { scatter(B3OverlappingObject.M_LINKINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
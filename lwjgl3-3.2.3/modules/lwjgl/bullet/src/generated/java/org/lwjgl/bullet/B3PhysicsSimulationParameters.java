@@ -446,6 +446,24 @@ public class B3PhysicsSimulationParameters extends Struct implements NativeResou
         return wrap(B3PhysicsSimulationParameters.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3PhysicsSimulationParameters} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3PhysicsSimulationParameters malloc(MemoryArena arena) {
+        return wrap(B3PhysicsSimulationParameters.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3PhysicsSimulationParameters} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3PhysicsSimulationParameters calloc(MemoryArena arena) {
+        return wrap(B3PhysicsSimulationParameters.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3PhysicsSimulationParameters.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -484,6 +502,26 @@ public class B3PhysicsSimulationParameters extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3PhysicsSimulationParameters.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3PhysicsSimulationParameters.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3PhysicsSimulationParameters.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3PhysicsSimulationParameters.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_deltaTime}. */
@@ -752,6 +790,208 @@ public class B3PhysicsSimulationParameters extends Struct implements NativeResou
         /** Sets the specified value to the {@code m_minimumSolverIslandSize} field. */
         public B3PhysicsSimulationParameters.Buffer m_minimumSolverIslandSize(int value) { B3PhysicsSimulationParameters.nm_minimumSolverIslandSize(address(), value); return this; }
 
+        /** Copies the {@code m_deltaTime} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_deltaTime(double[] dst) { gather(B3PhysicsSimulationParameters.M_DELTATIME, dst); return this; }
+        /** Copies the {@code m_deltaTime} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_deltaTime(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_DELTATIME, dst); return this; }
+        /** Copies the {@code m_numSimulationSubSteps} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_numSimulationSubSteps(int[] dst) { gather(B3PhysicsSimulationParameters.M_NUMSIMULATIONSUBSTEPS, dst); return this; }
+        /** Copies the {@code m_numSimulationSubSteps} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_numSimulationSubSteps(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_NUMSIMULATIONSUBSTEPS, dst); return this; }
+        /** Copies the {@code m_numSolverIterations} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_numSolverIterations(int[] dst) { gather(B3PhysicsSimulationParameters.M_NUMSOLVERITERATIONS, dst); return this; }
+        /** Copies the {@code m_numSolverIterations} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_numSolverIterations(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_NUMSOLVERITERATIONS, dst); return this; }
+        /** Copies the {@code m_useRealTimeSimulation} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_useRealTimeSimulation(int[] dst) { gather(B3PhysicsSimulationParameters.M_USEREALTIMESIMULATION, dst); return this; }
+        /** Copies the {@code m_useRealTimeSimulation} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_useRealTimeSimulation(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_USEREALTIMESIMULATION, dst); return this; }
+        /** Copies the {@code m_useSplitImpulse} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_useSplitImpulse(int[] dst) { gather(B3PhysicsSimulationParameters.M_USESPLITIMPULSE, dst); return this; }
+        /** Copies the {@code m_useSplitImpulse} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_useSplitImpulse(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_USESPLITIMPULSE, dst); return this; }
+        /** Copies the {@code m_splitImpulsePenetrationThreshold} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_splitImpulsePenetrationThreshold(double[] dst) { gather(B3PhysicsSimulationParameters.M_SPLITIMPULSEPENETRATIONTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_splitImpulsePenetrationThreshold} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_splitImpulsePenetrationThreshold(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_SPLITIMPULSEPENETRATIONTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_contactBreakingThreshold} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_contactBreakingThreshold(double[] dst) { gather(B3PhysicsSimulationParameters.M_CONTACTBREAKINGTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_contactBreakingThreshold} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_contactBreakingThreshold(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_CONTACTBREAKINGTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_internalSimFlags} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_internalSimFlags(int[] dst) { gather(B3PhysicsSimulationParameters.M_INTERNALSIMFLAGS, dst); return this; }
+        /** Copies the {@code m_internalSimFlags} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_internalSimFlags(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_INTERNALSIMFLAGS, dst); return this; }
+        /** Copies the {@code m_defaultContactERP} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_defaultContactERP(double[] dst) { gather(B3PhysicsSimulationParameters.M_DEFAULTCONTACTERP, dst); return this; }
+        /** Copies the {@code m_defaultContactERP} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_defaultContactERP(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_DEFAULTCONTACTERP, dst); return this; }
+        /** Copies the {@code m_collisionFilterMode} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_collisionFilterMode(int[] dst) { gather(B3PhysicsSimulationParameters.M_COLLISIONFILTERMODE, dst); return this; }
+        /** Copies the {@code m_collisionFilterMode} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_collisionFilterMode(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_COLLISIONFILTERMODE, dst); return this; }
+        /** Copies the {@code m_enableFileCaching} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_enableFileCaching(int[] dst) { gather(B3PhysicsSimulationParameters.M_ENABLEFILECACHING, dst); return this; }
+        /** Copies the {@code m_enableFileCaching} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_enableFileCaching(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_ENABLEFILECACHING, dst); return this; }
+        /** Copies the {@code m_restitutionVelocityThreshold} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_restitutionVelocityThreshold(double[] dst) { gather(B3PhysicsSimulationParameters.M_RESTITUTIONVELOCITYTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_restitutionVelocityThreshold} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_restitutionVelocityThreshold(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_RESTITUTIONVELOCITYTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_defaultNonContactERP} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_defaultNonContactERP(double[] dst) { gather(B3PhysicsSimulationParameters.M_DEFAULTNONCONTACTERP, dst); return this; }
+        /** Copies the {@code m_defaultNonContactERP} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_defaultNonContactERP(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_DEFAULTNONCONTACTERP, dst); return this; }
+        /** Copies the {@code m_frictionERP} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_frictionERP(double[] dst) { gather(B3PhysicsSimulationParameters.M_FRICTIONERP, dst); return this; }
+        /** Copies the {@code m_frictionERP} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_frictionERP(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_FRICTIONERP, dst); return this; }
+        /** Copies the {@code m_defaultGlobalCFM} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_defaultGlobalCFM(double[] dst) { gather(B3PhysicsSimulationParameters.M_DEFAULTGLOBALCFM, dst); return this; }
+        /** Copies the {@code m_defaultGlobalCFM} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_defaultGlobalCFM(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_DEFAULTGLOBALCFM, dst); return this; }
+        /** Copies the {@code m_frictionCFM} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_frictionCFM(double[] dst) { gather(B3PhysicsSimulationParameters.M_FRICTIONCFM, dst); return this; }
+        /** Copies the {@code m_frictionCFM} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_frictionCFM(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_FRICTIONCFM, dst); return this; }
+        /** Copies the {@code m_enableConeFriction} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_enableConeFriction(int[] dst) { gather(B3PhysicsSimulationParameters.M_ENABLECONEFRICTION, dst); return this; }
+        /** Copies the {@code m_enableConeFriction} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_enableConeFriction(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_ENABLECONEFRICTION, dst); return this; }
+        /** Copies the {@code m_deterministicOverlappingPairs} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_deterministicOverlappingPairs(int[] dst) { gather(B3PhysicsSimulationParameters.M_DETERMINISTICOVERLAPPINGPAIRS, dst); return this; }
+        /** Copies the {@code m_deterministicOverlappingPairs} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_deterministicOverlappingPairs(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_DETERMINISTICOVERLAPPINGPAIRS, dst); return this; }
+        /** Copies the {@code m_allowedCcdPenetration} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_allowedCcdPenetration(double[] dst) { gather(B3PhysicsSimulationParameters.M_ALLOWEDCCDPENETRATION, dst); return this; }
+        /** Copies the {@code m_allowedCcdPenetration} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_allowedCcdPenetration(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_ALLOWEDCCDPENETRATION, dst); return this; }
+        /** Copies the {@code m_jointFeedbackMode} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_jointFeedbackMode(int[] dst) { gather(B3PhysicsSimulationParameters.M_JOINTFEEDBACKMODE, dst); return this; }
+        /** Copies the {@code m_jointFeedbackMode} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_jointFeedbackMode(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_JOINTFEEDBACKMODE, dst); return this; }
+        /** Copies the {@code m_solverResidualThreshold} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_solverResidualThreshold(double[] dst) { gather(B3PhysicsSimulationParameters.M_SOLVERRESIDUALTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_solverResidualThreshold} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_solverResidualThreshold(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_SOLVERRESIDUALTHRESHOLD, dst); return this; }
+        /** Copies the {@code m_contactSlop} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_contactSlop(double[] dst) { gather(B3PhysicsSimulationParameters.M_CONTACTSLOP, dst); return this; }
+        /** Copies the {@code m_contactSlop} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_contactSlop(DoubleBuffer dst) { gather(B3PhysicsSimulationParameters.M_CONTACTSLOP, dst); return this; }
+        /** Copies the {@code m_enableSAT} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_enableSAT(int[] dst) { gather(B3PhysicsSimulationParameters.M_ENABLESAT, dst); return this; }
+        /** Copies the {@code m_enableSAT} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_enableSAT(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_ENABLESAT, dst); return this; }
+        /** Copies the {@code m_constraintSolverType} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_constraintSolverType(int[] dst) { gather(B3PhysicsSimulationParameters.M_CONSTRAINTSOLVERTYPE, dst); return this; }
+        /** Copies the {@code m_constraintSolverType} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_constraintSolverType(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_CONSTRAINTSOLVERTYPE, dst); return this; }
+        /** Copies the {@code m_minimumSolverIslandSize} field of the structs between the current position and limit to the specified array. */
+        public B3PhysicsSimulationParameters.Buffer getM_minimumSolverIslandSize(int[] dst) { gather(B3PhysicsSimulationParameters.M_MINIMUMSOLVERISLANDSIZE, dst); return this; }
+        /** Copies the {@code m_minimumSolverIslandSize} field of the structs between the current position and limit to the specified buffer. */
+        public B3PhysicsSimulationParameters.Buffer getM_minimumSolverIslandSize(IntBuffer dst) { gather(B3PhysicsSimulationParameters.M_MINIMUMSOLVERISLANDSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_deltaTime} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_deltaTime(double[] src) { scatter(B3PhysicsSimulationParameters.M_DELTATIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_deltaTime} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_deltaTime(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_DELTATIME, src); return this; }
+        /** Copies the values in the specified array to the {@code m_numSimulationSubSteps} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_numSimulationSubSteps(int[] src) { scatter(B3PhysicsSimulationParameters.M_NUMSIMULATIONSUBSTEPS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_numSimulationSubSteps} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_numSimulationSubSteps(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_NUMSIMULATIONSUBSTEPS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_numSolverIterations} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_numSolverIterations(int[] src) { scatter(B3PhysicsSimulationParameters.M_NUMSOLVERITERATIONS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_numSolverIterations} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_numSolverIterations(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_NUMSOLVERITERATIONS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_useRealTimeSimulation} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_useRealTimeSimulation(int[] src) { scatter(B3PhysicsSimulationParameters.M_USEREALTIMESIMULATION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_useRealTimeSimulation} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_useRealTimeSimulation(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_USEREALTIMESIMULATION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_useSplitImpulse} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_useSplitImpulse(int[] src) { scatter(B3PhysicsSimulationParameters.M_USESPLITIMPULSE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_useSplitImpulse} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_useSplitImpulse(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_USESPLITIMPULSE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_splitImpulsePenetrationThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_splitImpulsePenetrationThreshold(double[] src) { scatter(B3PhysicsSimulationParameters.M_SPLITIMPULSEPENETRATIONTHRESHOLD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_splitImpulsePenetrationThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_splitImpulsePenetrationThreshold(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_SPLITIMPULSEPENETRATIONTHRESHOLD, src); return this; }
+        /** Copies the values in the specified array to the {@code m_contactBreakingThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_contactBreakingThreshold(double[] src) { scatter(B3PhysicsSimulationParameters.M_CONTACTBREAKINGTHRESHOLD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactBreakingThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_contactBreakingThreshold(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_CONTACTBREAKINGTHRESHOLD, src); return this; }
+        /** Copies the values in the specified array to the {@code m_internalSimFlags} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_internalSimFlags(int[] src) { scatter(B3PhysicsSimulationParameters.M_INTERNALSIMFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_internalSimFlags} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_internalSimFlags(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_INTERNALSIMFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_defaultContactERP} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_defaultContactERP(double[] src) { scatter(B3PhysicsSimulationParameters.M_DEFAULTCONTACTERP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_defaultContactERP} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_defaultContactERP(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_DEFAULTCONTACTERP, src); return this; }
+        /** Copies the values in the specified array to the {@code m_collisionFilterMode} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_collisionFilterMode(int[] src) { scatter(B3PhysicsSimulationParameters.M_COLLISIONFILTERMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_collisionFilterMode} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_collisionFilterMode(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_COLLISIONFILTERMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_enableFileCaching} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_enableFileCaching(int[] src) { scatter(B3PhysicsSimulationParameters.M_ENABLEFILECACHING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_enableFileCaching} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_enableFileCaching(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_ENABLEFILECACHING, src); return this; }
+        /** Copies the values in the specified array to the {@code m_restitutionVelocityThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_restitutionVelocityThreshold(double[] src) { scatter(B3PhysicsSimulationParameters.M_RESTITUTIONVELOCITYTHRESHOLD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_restitutionVelocityThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_restitutionVelocityThreshold(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_RESTITUTIONVELOCITYTHRESHOLD, src); return this; }
+        /** Copies the values in the specified array to the {@code m_defaultNonContactERP} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_defaultNonContactERP(double[] src) { scatter(B3PhysicsSimulationParameters.M_DEFAULTNONCONTACTERP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_defaultNonContactERP} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_defaultNonContactERP(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_DEFAULTNONCONTACTERP, src); return this; }
+        /** Copies the values in the specified array to the {@code m_frictionERP} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_frictionERP(double[] src) { scatter(B3PhysicsSimulationParameters.M_FRICTIONERP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_frictionERP} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_frictionERP(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_FRICTIONERP, src); return this; }
+        /** Copies the values in the specified array to the {@code m_defaultGlobalCFM} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_defaultGlobalCFM(double[] src) { scatter(B3PhysicsSimulationParameters.M_DEFAULTGLOBALCFM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_defaultGlobalCFM} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_defaultGlobalCFM(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_DEFAULTGLOBALCFM, src); return this; }
+        /** Copies the values in the specified array to the {@code m_frictionCFM} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_frictionCFM(double[] src) { scatter(B3PhysicsSimulationParameters.M_FRICTIONCFM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_frictionCFM} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_frictionCFM(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_FRICTIONCFM, src); return this; }
+        /** Copies the values in the specified array to the {@code m_enableConeFriction} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_enableConeFriction(int[] src) { scatter(B3PhysicsSimulationParameters.M_ENABLECONEFRICTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_enableConeFriction} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_enableConeFriction(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_ENABLECONEFRICTION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_deterministicOverlappingPairs} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_deterministicOverlappingPairs(int[] src) { scatter(B3PhysicsSimulationParameters.M_DETERMINISTICOVERLAPPINGPAIRS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_deterministicOverlappingPairs} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_deterministicOverlappingPairs(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_DETERMINISTICOVERLAPPINGPAIRS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_allowedCcdPenetration} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_allowedCcdPenetration(double[] src) { scatter(B3PhysicsSimulationParameters.M_ALLOWEDCCDPENETRATION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_allowedCcdPenetration} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_allowedCcdPenetration(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_ALLOWEDCCDPENETRATION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointFeedbackMode} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_jointFeedbackMode(int[] src) { scatter(B3PhysicsSimulationParameters.M_JOINTFEEDBACKMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointFeedbackMode} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_jointFeedbackMode(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_JOINTFEEDBACKMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_solverResidualThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_solverResidualThreshold(double[] src) { scatter(B3PhysicsSimulationParameters.M_SOLVERRESIDUALTHRESHOLD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_solverResidualThreshold} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_solverResidualThreshold(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_SOLVERRESIDUALTHRESHOLD, src); return this; }
+        /** Copies the values in the specified array to the {@code m_contactSlop} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_contactSlop(double[] src) { scatter(B3PhysicsSimulationParameters.M_CONTACTSLOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_contactSlop} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_contactSlop(DoubleBuffer src) { scatter(B3PhysicsSimulationParameters.M_CONTACTSLOP, src); return this; }
+        /** Copies the values in the specified array to the {@code m_enableSAT} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_enableSAT(int[] src) { scatter(B3PhysicsSimulationParameters.M_ENABLESAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_enableSAT} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_enableSAT(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_ENABLESAT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_constraintSolverType} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_constraintSolverType(int[] src) { scatter(B3PhysicsSimulationParameters.M_CONSTRAINTSOLVERTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_constraintSolverType} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_constraintSolverType(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_CONSTRAINTSOLVERTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_minimumSolverIslandSize} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_minimumSolverIslandSize(int[] src) { scatter(B3PhysicsSimulationParameters.M_MINIMUMSOLVERISLANDSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_minimumSolverIslandSize} field of the structs between the current position and limit. */
+        public B3PhysicsSimulationParameters.Buffer putM_minimumSolverIslandSize(IntBuffer src) { scatter(B3PhysicsSimulationParameters.M_MINIMUMSOLVERISLANDSIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
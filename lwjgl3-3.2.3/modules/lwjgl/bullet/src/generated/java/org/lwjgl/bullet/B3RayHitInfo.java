@@ -241,6 +241,24 @@ public class B3RayHitInfo extends Struct implements NativeResource {
         return wrap(B3RayHitInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3RayHitInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3RayHitInfo malloc(MemoryArena arena) {
+        return wrap(B3RayHitInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3RayHitInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3RayHitInfo calloc(MemoryArena arena) {
+        return wrap(B3RayHitInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3RayHitInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -279,6 +297,26 @@ public class B3RayHitInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3RayHitInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3RayHitInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3RayHitInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3RayHitInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_hitFraction}. */
@@ -395,6 +433,32 @@ public class B3RayHitInfo extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code m_hitNormalWorld} field. */
         public B3RayHitInfo.Buffer m_hitNormalWorld(int index, double value) { B3RayHitInfo.nm_hitNormalWorld(address(), index, value); return this; }
 
+        /** Copies the {@code m_hitFraction} field of the structs between the current position and limit to the specified array. */
+        public B3RayHitInfo.Buffer getM_hitFraction(double[] dst) { gather(B3RayHitInfo.M_HITFRACTION, dst); return this; }
+        /** Copies the {@code m_hitFraction} field of the structs between the current position and limit to the specified buffer. */
+        public B3RayHitInfo.Buffer getM_hitFraction(DoubleBuffer dst) { gather(B3RayHitInfo.M_HITFRACTION, dst); return this; }
+        /** Copies the {@code m_hitObjectUniqueId} field of the structs between the current position and limit to the specified array. */
+        public B3RayHitInfo.Buffer getM_hitObjectUniqueId(int[] dst) { gather(B3RayHitInfo.M_HITOBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_hitObjectUniqueId} field of the structs between the current position and limit to the specified buffer. */
+        public B3RayHitInfo.Buffer getM_hitObjectUniqueId(IntBuffer dst) { gather(B3RayHitInfo.M_HITOBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_hitObjectLinkIndex} field of the structs between the current position and limit to the specified array. */
+        public B3RayHitInfo.Buffer getM_hitObjectLinkIndex(int[] dst) { gather(B3RayHitInfo.M_HITOBJECTLINKINDEX, dst); return this; }
+        /** Copies the {@code m_hitObjectLinkIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3RayHitInfo.Buffer getM_hitObjectLinkIndex(IntBuffer dst) { gather(B3RayHitInfo.M_HITOBJECTLINKINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_hitFraction} field of the structs between the current position and limit. */
+        public B3RayHitInfo.Buffer putM_hitFraction(double[] src) { scatter(B3RayHitInfo.M_HITFRACTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_hitFraction} field of the structs between the current position and limit. */
+        public B3RayHitInfo.Buffer putM_hitFraction(DoubleBuffer src) { scatter(B3RayHitInfo.M_HITFRACTION, src); return this; }
+        /** Copies the values in the specified array to the {@code m_hitObjectUniqueId} field of the structs between the current position and limit. */
+        public B3RayHitInfo.Buffer putM_hitObjectUniqueId(int[] src) { scatter(B3RayHitInfo.M_HITOBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_hitObjectUniqueId} field of the structs between the current position and limit. */
+        public B3RayHitInfo.Buffer putM_hitObjectUniqueId(IntBuffer src) { scatter(B3RayHitInfo.M_HITOBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_hitObjectLinkIndex} field of the structs between the current position and limit. */
+        public B3RayHitInfo.Buffer putM_hitObjectLinkIndex(int[] src) { scatter(B3RayHitInfo.M_HITOBJECTLINKINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_hitObjectLinkIndex} field of the structs between the current position and limit. */
+        public B3RayHitInfo.Buffer putM_hitObjectLinkIndex(IntBuffer src) { scatter(B3RayHitInfo.M_HITOBJECTLINKINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class B3RaycastInformation extends Struct implements NativeResource {
         return wrap(B3RaycastInformation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3RaycastInformation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3RaycastInformation malloc(MemoryArena arena) {
+        return wrap(B3RaycastInformation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3RaycastInformation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3RaycastInformation calloc(MemoryArena arena) {
+        return wrap(B3RaycastInformation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3RaycastInformation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3RaycastInformation extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3RaycastInformation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3RaycastInformation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3RaycastInformation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3RaycastInformation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numRayHits}. */
@@ -307,6 +345,11 @@ public class B3RaycastInformation extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3RayHitInfo.Buffer} to the {@code m_rayHits} field. */
         public B3RaycastInformation.Buffer m_rayHits(@NativeType("struct b3RayHitInfo *") B3RayHitInfo.Buffer value) { B3RaycastInformation.nm_rayHits(address(), value); return this; }
 
+        /** Copies the {@code m_numRayHits} field of the structs between the current position and limit to the specified array. */
+        public B3RaycastInformation.Buffer getM_numRayHits(int[] dst) { gather(B3RaycastInformation.M_NUMRAYHITS, dst); return this; }
+        /** Copies the {@code m_numRayHits} field of the structs between the current position and limit to the specified buffer. */
+        public B3RaycastInformation.Buffer getM_numRayHits(IntBuffer dst) { gather(B3RaycastInformation.M_NUMRAYHITS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -336,6 +336,24 @@ public class B3UserConstraint extends Struct implements NativeResource {
         return wrap(B3UserConstraint.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3UserConstraint} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3UserConstraint malloc(MemoryArena arena) {
+        return wrap(B3UserConstraint.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3UserConstraint} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3UserConstraint calloc(MemoryArena arena) {
+        return wrap(B3UserConstraint.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3UserConstraint.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -374,6 +392,26 @@ public class B3UserConstraint extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3UserConstraint.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3UserConstraint.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3UserConstraint.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3UserConstraint.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_parentBodyIndex}. */
@@ -578,6 +616,96 @@ public class B3UserConstraint extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_erp} field. */
         public B3UserConstraint.Buffer m_erp(double value) { B3UserConstraint.nm_erp(address(), value); return this; }
 
+        /** Copies the {@code m_parentBodyIndex} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_parentBodyIndex(int[] dst) { gather(B3UserConstraint.M_PARENTBODYINDEX, dst); return this; }
+        /** Copies the {@code m_parentBodyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_parentBodyIndex(IntBuffer dst) { gather(B3UserConstraint.M_PARENTBODYINDEX, dst); return this; }
+        /** Copies the {@code m_parentJointIndex} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_parentJointIndex(int[] dst) { gather(B3UserConstraint.M_PARENTJOINTINDEX, dst); return this; }
+        /** Copies the {@code m_parentJointIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_parentJointIndex(IntBuffer dst) { gather(B3UserConstraint.M_PARENTJOINTINDEX, dst); return this; }
+        /** Copies the {@code m_childBodyIndex} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_childBodyIndex(int[] dst) { gather(B3UserConstraint.M_CHILDBODYINDEX, dst); return this; }
+        /** Copies the {@code m_childBodyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_childBodyIndex(IntBuffer dst) { gather(B3UserConstraint.M_CHILDBODYINDEX, dst); return this; }
+        /** Copies the {@code m_childJointIndex} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_childJointIndex(int[] dst) { gather(B3UserConstraint.M_CHILDJOINTINDEX, dst); return this; }
+        /** Copies the {@code m_childJointIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_childJointIndex(IntBuffer dst) { gather(B3UserConstraint.M_CHILDJOINTINDEX, dst); return this; }
+        /** Copies the {@code m_jointType} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_jointType(int[] dst) { gather(B3UserConstraint.M_JOINTTYPE, dst); return this; }
+        /** Copies the {@code m_jointType} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_jointType(IntBuffer dst) { gather(B3UserConstraint.M_JOINTTYPE, dst); return this; }
+        /** Copies the {@code m_maxAppliedForce} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_maxAppliedForce(double[] dst) { gather(B3UserConstraint.M_MAXAPPLIEDFORCE, dst); return this; }
+        /** Copies the {@code m_maxAppliedForce} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_maxAppliedForce(DoubleBuffer dst) { gather(B3UserConstraint.M_MAXAPPLIEDFORCE, dst); return this; }
+        /** Copies the {@code m_userConstraintUniqueId} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_userConstraintUniqueId(int[] dst) { gather(B3UserConstraint.M_USERCONSTRAINTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_userConstraintUniqueId} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_userConstraintUniqueId(IntBuffer dst) { gather(B3UserConstraint.M_USERCONSTRAINTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_gearRatio} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_gearRatio(double[] dst) { gather(B3UserConstraint.M_GEARRATIO, dst); return this; }
+        /** Copies the {@code m_gearRatio} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_gearRatio(DoubleBuffer dst) { gather(B3UserConstraint.M_GEARRATIO, dst); return this; }
+        /** Copies the {@code m_gearAuxLink} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_gearAuxLink(int[] dst) { gather(B3UserConstraint.M_GEARAUXLINK, dst); return this; }
+        /** Copies the {@code m_gearAuxLink} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_gearAuxLink(IntBuffer dst) { gather(B3UserConstraint.M_GEARAUXLINK, dst); return this; }
+        /** Copies the {@code m_relativePositionTarget} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_relativePositionTarget(double[] dst) { gather(B3UserConstraint.M_RELATIVEPOSITIONTARGET, dst); return this; }
+        /** Copies the {@code m_relativePositionTarget} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_relativePositionTarget(DoubleBuffer dst) { gather(B3UserConstraint.M_RELATIVEPOSITIONTARGET, dst); return this; }
+        /** Copies the {@code m_erp} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraint.Buffer getM_erp(double[] dst) { gather(B3UserConstraint.M_ERP, dst); return this; }
+        /** Copies the {@code m_erp} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraint.Buffer getM_erp(DoubleBuffer dst) { gather(B3UserConstraint.M_ERP, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_parentBodyIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_parentBodyIndex(int[] src) { scatter(B3UserConstraint.M_PARENTBODYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_parentBodyIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_parentBodyIndex(IntBuffer src) { scatter(B3UserConstraint.M_PARENTBODYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_parentJointIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_parentJointIndex(int[] src) { scatter(B3UserConstraint.M_PARENTJOINTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_parentJointIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_parentJointIndex(IntBuffer src) { scatter(B3UserConstraint.M_PARENTJOINTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_childBodyIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_childBodyIndex(int[] src) { scatter(B3UserConstraint.M_CHILDBODYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_childBodyIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_childBodyIndex(IntBuffer src) { scatter(B3UserConstraint.M_CHILDBODYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_childJointIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_childJointIndex(int[] src) { scatter(B3UserConstraint.M_CHILDJOINTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_childJointIndex} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_childJointIndex(IntBuffer src) { scatter(B3UserConstraint.M_CHILDJOINTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_jointType} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_jointType(int[] src) { scatter(B3UserConstraint.M_JOINTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_jointType} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_jointType(IntBuffer src) { scatter(B3UserConstraint.M_JOINTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_maxAppliedForce} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_maxAppliedForce(double[] src) { scatter(B3UserConstraint.M_MAXAPPLIEDFORCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_maxAppliedForce} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_maxAppliedForce(DoubleBuffer src) { scatter(B3UserConstraint.M_MAXAPPLIEDFORCE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_userConstraintUniqueId} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_userConstraintUniqueId(int[] src) { scatter(B3UserConstraint.M_USERCONSTRAINTUNIQUEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_userConstraintUniqueId} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_userConstraintUniqueId(IntBuffer src) { scatter(B3UserConstraint.M_USERCONSTRAINTUNIQUEID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_gearRatio} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_gearRatio(double[] src) { scatter(B3UserConstraint.M_GEARRATIO, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_gearRatio} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_gearRatio(DoubleBuffer src) { scatter(B3UserConstraint.M_GEARRATIO, src); return this; }
+        /** Copies the values in the specified array to the {@code m_gearAuxLink} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_gearAuxLink(int[] src) { scatter(B3UserConstraint.M_GEARAUXLINK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_gearAuxLink} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_gearAuxLink(IntBuffer src) { scatter(B3UserConstraint.M_GEARAUXLINK, src); return this; }
+        /** Copies the values in the specified array to the {@code m_relativePositionTarget} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_relativePositionTarget(double[] src) { scatter(B3UserConstraint.M_RELATIVEPOSITIONTARGET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_relativePositionTarget} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_relativePositionTarget(DoubleBuffer src) { scatter(B3UserConstraint.M_RELATIVEPOSITIONTARGET, src); return this; }
+        /** Copies the values in the specified array to the {@code m_erp} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_erp(double[] src) { scatter(B3UserConstraint.M_ERP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_erp} field of the structs between the current position and limit. */
+        public B3UserConstraint.Buffer putM_erp(DoubleBuffer src) { scatter(B3UserConstraint.M_ERP, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -206,6 +206,24 @@ public class B3UserConstraintState extends Struct implements NativeResource {
         return wrap(B3UserConstraintState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3UserConstraintState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3UserConstraintState malloc(MemoryArena arena) {
+        return wrap(B3UserConstraintState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3UserConstraintState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3UserConstraintState calloc(MemoryArena arena) {
+        return wrap(B3UserConstraintState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3UserConstraintState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -244,6 +262,26 @@ public class B3UserConstraintState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3UserConstraintState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3UserConstraintState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3UserConstraintState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3UserConstraintState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_appliedConstraintForces}. */
@@ -320,6 +358,16 @@ public class B3UserConstraintState extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_numDofs} field. */
         public B3UserConstraintState.Buffer m_numDofs(int value) { B3UserConstraintState.nm_numDofs(address(), value); return this; }
 
+        /** Copies the {@code m_numDofs} field of the structs between the current position and limit to the specified array. */
+        public B3UserConstraintState.Buffer getM_numDofs(int[] dst) { gather(B3UserConstraintState.M_NUMDOFS, dst); return this; }
+        /** Copies the {@code m_numDofs} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserConstraintState.Buffer getM_numDofs(IntBuffer dst) { gather(B3UserConstraintState.M_NUMDOFS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_numDofs} field of the structs between the current position and limit. */
+        public B3UserConstraintState.Buffer putM_numDofs(int[] src) { scatter(B3UserConstraintState.M_NUMDOFS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_numDofs} field of the structs between the current position and limit. */
+        public B3UserConstraintState.Buffer putM_numDofs(IntBuffer src) { scatter(B3UserConstraintState.M_NUMDOFS, src); return this; }
+
     }
 
 }
\ No newline at end of file
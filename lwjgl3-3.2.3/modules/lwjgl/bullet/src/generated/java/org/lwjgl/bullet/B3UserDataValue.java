@@ -208,6 +208,24 @@ public class B3UserDataValue extends Struct implements NativeResource {
         return wrap(B3UserDataValue.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3UserDataValue} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3UserDataValue malloc(MemoryArena arena) {
+        return wrap(B3UserDataValue.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3UserDataValue} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3UserDataValue calloc(MemoryArena arena) {
+        return wrap(B3UserDataValue.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3UserDataValue.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -246,6 +264,26 @@ public class B3UserDataValue extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3UserDataValue.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3UserDataValue.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3UserDataValue.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3UserDataValue.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_type}. */
@@ -334,6 +372,20 @@ public class B3UserDataValue extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code m_data1} field. */
         public B3UserDataValue.Buffer m_data1(@NativeType("char *") ByteBuffer value) { B3UserDataValue.nm_data1(address(), value); return this; }
 
+        /** Copies the {@code m_type} field of the structs between the current position and limit to the specified array. */
+        public B3UserDataValue.Buffer getM_type(int[] dst) { gather(B3UserDataValue.M_TYPE, dst); return this; }
+        /** Copies the {@code m_type} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserDataValue.Buffer getM_type(IntBuffer dst) { gather(B3UserDataValue.M_TYPE, dst); return this; }
+        /** Copies the {@code m_length} field of the structs between the current position and limit to the specified array. */
+        public B3UserDataValue.Buffer getM_length(int[] dst) { gather(B3UserDataValue.M_LENGTH, dst); return this; }
+        /** Copies the {@code m_length} field of the structs between the current position and limit to the specified buffer. */
+        public B3UserDataValue.Buffer getM_length(IntBuffer dst) { gather(B3UserDataValue.M_LENGTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_type} field of the structs between the current position and limit. */
+        public B3UserDataValue.Buffer putM_type(int[] src) { scatter(B3UserDataValue.M_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_type} field of the structs between the current position and limit. */
+        public B3UserDataValue.Buffer putM_type(IntBuffer src) { scatter(B3UserDataValue.M_TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
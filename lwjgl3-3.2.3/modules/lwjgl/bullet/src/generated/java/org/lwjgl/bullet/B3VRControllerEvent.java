@@ -293,6 +293,24 @@ public class B3VRControllerEvent extends Struct implements NativeResource {
         return wrap(B3VRControllerEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3VRControllerEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VRControllerEvent malloc(MemoryArena arena) {
+        return wrap(B3VRControllerEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3VRControllerEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VRControllerEvent calloc(MemoryArena arena) {
+        return wrap(B3VRControllerEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3VRControllerEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class B3VRControllerEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3VRControllerEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VRControllerEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3VRControllerEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VRControllerEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_controllerId}. */
@@ -511,6 +549,48 @@ public class B3VRControllerEvent extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code m_buttons} field. */
         public B3VRControllerEvent.Buffer m_buttons(int index, int value) { B3VRControllerEvent.nm_buttons(address(), index, value); return this; }
 
+        /** Copies the {@code m_controllerId} field of the structs between the current position and limit to the specified array. */
+        public B3VRControllerEvent.Buffer getM_controllerId(int[] dst) { gather(B3VRControllerEvent.M_CONTROLLERID, dst); return this; }
+        /** Copies the {@code m_controllerId} field of the structs between the current position and limit to the specified buffer. */
+        public B3VRControllerEvent.Buffer getM_controllerId(IntBuffer dst) { gather(B3VRControllerEvent.M_CONTROLLERID, dst); return this; }
+        /** Copies the {@code m_deviceType} field of the structs between the current position and limit to the specified array. */
+        public B3VRControllerEvent.Buffer getM_deviceType(int[] dst) { gather(B3VRControllerEvent.M_DEVICETYPE, dst); return this; }
+        /** Copies the {@code m_deviceType} field of the structs between the current position and limit to the specified buffer. */
+        public B3VRControllerEvent.Buffer getM_deviceType(IntBuffer dst) { gather(B3VRControllerEvent.M_DEVICETYPE, dst); return this; }
+        /** Copies the {@code m_numMoveEvents} field of the structs between the current position and limit to the specified array. */
+        public B3VRControllerEvent.Buffer getM_numMoveEvents(int[] dst) { gather(B3VRControllerEvent.M_NUMMOVEEVENTS, dst); return this; }
+        /** Copies the {@code m_numMoveEvents} field of the structs between the current position and limit to the specified buffer. */
+        public B3VRControllerEvent.Buffer getM_numMoveEvents(IntBuffer dst) { gather(B3VRControllerEvent.M_NUMMOVEEVENTS, dst); return this; }
+        /** Copies the {@code m_numButtonEvents} field of the structs between the current position and limit to the specified array. */
+        public B3VRControllerEvent.Buffer getM_numButtonEvents(int[] dst) { gather(B3VRControllerEvent.M_NUMBUTTONEVENTS, dst); return this; }
+        /** Copies the {@code m_numButtonEvents} field of the structs between the current position and limit to the specified buffer. */
+        public B3VRControllerEvent.Buffer getM_numButtonEvents(IntBuffer dst) { gather(B3VRControllerEvent.M_NUMBUTTONEVENTS, dst); return this; }
+        /** Copies the {@code m_analogAxis} field of the structs between the current position and limit to the specified array. */
+        public B3VRControllerEvent.Buffer getM_analogAxis(float[] dst) { gather(B3VRControllerEvent.M_ANALOGAXIS, dst); return this; }
+        /** Copies the {@code m_analogAxis} field of the structs between the current position and limit to the specified buffer. */
+        public B3VRControllerEvent.Buffer getM_analogAxis(FloatBuffer dst) { gather(B3VRControllerEvent.M_ANALOGAXIS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_controllerId} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_controllerId(int[] src) { scatter(B3VRControllerEvent.M_CONTROLLERID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_controllerId} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_controllerId(IntBuffer src) { scatter(B3VRControllerEvent.M_CONTROLLERID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_deviceType} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_deviceType(int[] src) { scatter(B3VRControllerEvent.M_DEVICETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_deviceType} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_deviceType(IntBuffer src) { scatter(B3VRControllerEvent.M_DEVICETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_numMoveEvents} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_numMoveEvents(int[] src) { scatter(B3VRControllerEvent.M_NUMMOVEEVENTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_numMoveEvents} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_numMoveEvents(IntBuffer src) { scatter(B3VRControllerEvent.M_NUMMOVEEVENTS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_numButtonEvents} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_numButtonEvents(int[] src) { scatter(B3VRControllerEvent.M_NUMBUTTONEVENTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_numButtonEvents} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_numButtonEvents(IntBuffer src) { scatter(B3VRControllerEvent.M_NUMBUTTONEVENTS, src); return this; }
+        /** Copies the values in the specified array to the {@code m_analogAxis} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_analogAxis(float[] src) { scatter(B3VRControllerEvent.M_ANALOGAXIS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_analogAxis} field of the structs between the current position and limit. */
+        public B3VRControllerEvent.Buffer putM_analogAxis(FloatBuffer src) { scatter(B3VRControllerEvent.M_ANALOGAXIS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class B3VREventsData extends Struct implements NativeResource {
         return wrap(B3VREventsData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3VREventsData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VREventsData malloc(MemoryArena arena) {
+        return wrap(B3VREventsData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3VREventsData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VREventsData calloc(MemoryArena arena) {
+        return wrap(B3VREventsData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3VREventsData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3VREventsData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3VREventsData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VREventsData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3VREventsData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VREventsData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numControllerEvents}. */
@@ -307,6 +345,11 @@ public class B3VREventsData extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3VRControllerEvent.Buffer} to the {@code m_controllerEvents} field. */
         public B3VREventsData.Buffer m_controllerEvents(@NativeType("struct b3VRControllerEvent *") B3VRControllerEvent.Buffer value) { B3VREventsData.nm_controllerEvents(address(), value); return this; }
 
+        /** Copies the {@code m_numControllerEvents} field of the structs between the current position and limit to the specified array. */
+        public B3VREventsData.Buffer getM_numControllerEvents(int[] dst) { gather(B3VREventsData.M_NUMCONTROLLEREVENTS, dst); return this; }
+        /** Copies the {@code m_numControllerEvents} field of the structs between the current position and limit to the specified buffer. */
+        public B3VREventsData.Buffer getM_numControllerEvents(IntBuffer dst) { gather(B3VREventsData.M_NUMCONTROLLEREVENTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
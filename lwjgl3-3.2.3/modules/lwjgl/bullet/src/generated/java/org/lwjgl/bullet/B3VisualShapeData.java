@@ -302,6 +302,24 @@ public class B3VisualShapeData extends Struct implements NativeResource {
         return wrap(B3VisualShapeData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3VisualShapeData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VisualShapeData malloc(MemoryArena arena) {
+        return wrap(B3VisualShapeData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3VisualShapeData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VisualShapeData calloc(MemoryArena arena) {
+        return wrap(B3VisualShapeData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3VisualShapeData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -340,6 +358,26 @@ public class B3VisualShapeData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3VisualShapeData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VisualShapeData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3VisualShapeData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VisualShapeData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_objectUniqueId}. */
@@ -524,6 +562,56 @@ public class B3VisualShapeData extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_openglTextureId} field. */
         public B3VisualShapeData.Buffer m_openglTextureId(int value) { B3VisualShapeData.nm_openglTextureId(address(), value); return this; }
 
+        /** Copies the {@code m_objectUniqueId} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeData.Buffer getM_objectUniqueId(int[] dst) { gather(B3VisualShapeData.M_OBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_objectUniqueId} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeData.Buffer getM_objectUniqueId(IntBuffer dst) { gather(B3VisualShapeData.M_OBJECTUNIQUEID, dst); return this; }
+        /** Copies the {@code m_linkIndex} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeData.Buffer getM_linkIndex(int[] dst) { gather(B3VisualShapeData.M_LINKINDEX, dst); return this; }
+        /** Copies the {@code m_linkIndex} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeData.Buffer getM_linkIndex(IntBuffer dst) { gather(B3VisualShapeData.M_LINKINDEX, dst); return this; }
+        /** Copies the {@code m_visualGeometryType} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeData.Buffer getM_visualGeometryType(int[] dst) { gather(B3VisualShapeData.M_VISUALGEOMETRYTYPE, dst); return this; }
+        /** Copies the {@code m_visualGeometryType} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeData.Buffer getM_visualGeometryType(IntBuffer dst) { gather(B3VisualShapeData.M_VISUALGEOMETRYTYPE, dst); return this; }
+        /** Copies the {@code m_tinyRendererTextureId} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeData.Buffer getM_tinyRendererTextureId(int[] dst) { gather(B3VisualShapeData.M_TINYRENDERERTEXTUREID, dst); return this; }
+        /** Copies the {@code m_tinyRendererTextureId} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeData.Buffer getM_tinyRendererTextureId(IntBuffer dst) { gather(B3VisualShapeData.M_TINYRENDERERTEXTUREID, dst); return this; }
+        /** Copies the {@code m_textureUniqueId} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeData.Buffer getM_textureUniqueId(int[] dst) { gather(B3VisualShapeData.M_TEXTUREUNIQUEID, dst); return this; }
+        /** Copies the {@code m_textureUniqueId} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeData.Buffer getM_textureUniqueId(IntBuffer dst) { gather(B3VisualShapeData.M_TEXTUREUNIQUEID, dst); return this; }
+        /** Copies the {@code m_openglTextureId} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeData.Buffer getM_openglTextureId(int[] dst) { gather(B3VisualShapeData.M_OPENGLTEXTUREID, dst); return this; }
+        /** Copies the {@code m_openglTextureId} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeData.Buffer getM_openglTextureId(IntBuffer dst) { gather(B3VisualShapeData.M_OPENGLTEXTUREID, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_objectUniqueId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_objectUniqueId(int[] src) { scatter(B3VisualShapeData.M_OBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_objectUniqueId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_objectUniqueId(IntBuffer src) { scatter(B3VisualShapeData.M_OBJECTUNIQUEID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_linkIndex} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_linkIndex(int[] src) { scatter(B3VisualShapeData.M_LINKINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_linkIndex} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_linkIndex(IntBuffer src) { scatter(B3VisualShapeData.M_LINKINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_visualGeometryType} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_visualGeometryType(int[] src) { scatter(B3VisualShapeData.M_VISUALGEOMETRYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_visualGeometryType} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_visualGeometryType(IntBuffer src) { scatter(B3VisualShapeData.M_VISUALGEOMETRYTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_tinyRendererTextureId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_tinyRendererTextureId(int[] src) { scatter(B3VisualShapeData.M_TINYRENDERERTEXTUREID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_tinyRendererTextureId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_tinyRendererTextureId(IntBuffer src) { scatter(B3VisualShapeData.M_TINYRENDERERTEXTUREID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_textureUniqueId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_textureUniqueId(int[] src) { scatter(B3VisualShapeData.M_TEXTUREUNIQUEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_textureUniqueId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_textureUniqueId(IntBuffer src) { scatter(B3VisualShapeData.M_TEXTUREUNIQUEID, src); return this; }
+        /** Copies the values in the specified array to the {@code m_openglTextureId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_openglTextureId(int[] src) { scatter(B3VisualShapeData.M_OPENGLTEXTUREID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_openglTextureId} field of the structs between the current position and limit. */
+        public B3VisualShapeData.Buffer putM_openglTextureId(IntBuffer src) { scatter(B3VisualShapeData.M_OPENGLTEXTUREID, src); return this; }
+
     }
 
 }
\ No newline at end of file
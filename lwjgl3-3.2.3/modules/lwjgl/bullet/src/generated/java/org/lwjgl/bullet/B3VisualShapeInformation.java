@@ -189,6 +189,24 @@ public class B3VisualShapeInformation extends Struct implements NativeResource {
         return wrap(B3VisualShapeInformation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code B3VisualShapeInformation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VisualShapeInformation malloc(MemoryArena arena) {
+        return wrap(B3VisualShapeInformation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code B3VisualShapeInformation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static B3VisualShapeInformation calloc(MemoryArena arena) {
+        return wrap(B3VisualShapeInformation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link B3VisualShapeInformation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class B3VisualShapeInformation extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link B3VisualShapeInformation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VisualShapeInformation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link B3VisualShapeInformation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static B3VisualShapeInformation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_numVisualShapes}. */
@@ -307,6 +345,11 @@ public class B3VisualShapeInformation extends Struct implements NativeResource {
         /** Sets the address of the specified {@link B3VisualShapeData.Buffer} to the {@code m_visualShapeData} field. */
         public B3VisualShapeInformation.Buffer m_visualShapeData(@NativeType("struct b3VisualShapeData *") B3VisualShapeData.Buffer value) { B3VisualShapeInformation.nm_visualShapeData(address(), value); return this; }
 
+        /** Copies the {@code m_numVisualShapes} field of the structs between the current position and limit to the specified array. */
+        public B3VisualShapeInformation.Buffer getM_numVisualShapes(int[] dst) { gather(B3VisualShapeInformation.M_NUMVISUALSHAPES, dst); return this; }
+        /** Copies the {@code m_numVisualShapes} field of the structs between the current position and limit to the specified buffer. */
+        public B3VisualShapeInformation.Buffer getM_numVisualShapes(IntBuffer dst) { gather(B3VisualShapeInformation.M_NUMVISUALSHAPES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -1028,6 +1028,8 @@ public class PhysicsClient {
         eCNSFileIO      = 3,
         eInMemoryFileIO = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(PhysicsClient.class, "b3ConnectPhysicsTCP,b3ConnectPhysicsUDP,b3DisconnectSharedMemory,b3CanSubmitCommand,b3SubmitClientCommandAndWaitStatus,b3SubmitClientCommand,b3ProcessServerStatus,b3GetStatusType,b3CreateCustomCommand,b3CustomCommandLoadPlugin,b3CustomCommandLoadPluginSetPostFix,b3GetStatusPluginUniqueId,b3GetStatusPluginCommandResult,b3CustomCommandUnloadPlugin,b3CustomCommandExecutePluginCommand,b3CustomCommandExecuteAddIntArgument,b3CustomCommandExecuteAddFloatArgument,b3GetStatusBodyIndices,b3GetStatusBodyIndex,b3GetStatusActualState,b3GetStatusActualState2,b3RequestCollisionInfoCommandInit,b3GetStatusAABB,b3InitSyncBodyInfoCommand,b3InitRemoveBodyCommand,b3GetNumBodies,b3GetBodyUniqueId,b3GetBodyInfo,b3GetNumJoints,b3ComputeDofCount,b3GetJointInfo,b3InitSyncUserDataCommand,b3InitAddUserDataCommand,b3InitRemoveUserDataCommand,b3GetUserData,b3GetUserDataId,b3GetUserDataIdFromStatus,b3GetNumUserData,b3GetUserDataInfo,b3GetDynamicsInfoCommandInit,b3GetDynamicsInfoCommandInit2,b3GetDynamicsInfo,b3InitChangeDynamicsInfo,b3InitChangeDynamicsInfo2,b3ChangeDynamicsInfoSetMass,b3ChangeDynamicsInfoSetLocalInertiaDiagonal,b3ChangeDynamicsInfoSetLateralFriction,b3ChangeDynamicsInfoSetSpinningFriction,b3ChangeDynamicsInfoSetRollingFriction,b3ChangeDynamicsInfoSetRestitution,b3ChangeDynamicsInfoSetLinearDamping,b3ChangeDynamicsInfoSetAngularDamping,b3ChangeDynamicsInfoSetContactStiffnessAndDamping,b3ChangeDynamicsInfoSetFrictionAnchor,b3ChangeDynamicsInfoSetCcdSweptSphereRadius,b3ChangeDynamicsInfoSetContactProcessingThreshold,b3ChangeDynamicsInfoSetActivationState,b3InitCreateUserConstraintCommand,b3InitCreateUserConstraintCommand2,b3GetStatusUserConstraintUniqueId,b3InitChangeUserConstraintCommand,b3InitChangeUserConstraintSetPivotInB,b3InitChangeUserConstraintSetFrameInB,b3InitChangeUserConstraintSetMaxForce,b3InitChangeUserConstraintSetGearRatio,b3InitChangeUserConstraintSetGearAuxLink,b3InitChangeUserConstraintSetRelativePositionTarget,b3InitChangeUserConstraintSetERP,b3InitRemoveUserConstraintCommand,b3GetNumUserConstraints,b3InitGetUserConstraintStateCommand,b3GetStatusUserConstraintState,b3GetUserConstraintInfo,b3GetUserConstraintId,b3InitRequestDebugLinesCommand,b3GetDebugLines,b3InitConfigureOpenGLVisualizer,b3InitConfigureOpenGLVisualizer2,b3ConfigureOpenGLVisualizerSetVisualizationFlags,b3ConfigureOpenGLVisualizerSetViewMatrix,b3InitRequestOpenGLVisualizerCameraCommand,b3GetStatusOpenGLVisualizerCamera,b3InitUserDebugDrawAddLine3D,b3InitUserDebugDrawAddText3D,b3UserDebugTextSetOptionFlags,b3UserDebugTextSetOrientation,b3UserDebugItemSetReplaceItemUniqueId,b3UserDebugItemSetParentObject,b3InitUserDebugAddParameter,b3InitUserDebugReadParameter,b3GetStatusDebugParameterValue,b3InitUserDebugDrawRemove,b3InitUserDebugDrawRemoveAll,b3InitDebugDrawingCommand,b3SetDebugObjectColor,b3RemoveDebugObjectColor,b3GetDebugItemUniqueId,b3InitRequestCameraImage,b3InitRequestCameraImage2,b3RequestCameraImageSetCameraMatrices,b3RequestCameraImageSetPixelResolution,b3RequestCameraImageSetLightDirection,b3RequestCameraImageSetLightColor,b3RequestCameraImageSetLightDistance,b3RequestCameraImageSetLightAmbientCoeff,b3RequestCameraImageSetLightDiffuseCoeff,b3RequestCameraImageSetLightSpecularCoeff,b3RequestCameraImageSetShadow,b3RequestCameraImageSelectRenderer,b3RequestCameraImageSetFlags,b3GetCameraImageData,b3RequestCameraImageSetProjectiveTextureMatrices,b3ComputeViewMatrixFromPositions,b3ComputeViewMatrixFromYawPitchRoll,b3ComputePositionFromViewMatrix,b3ComputeProjectionMatrix,b3ComputeProjectionMatrixFOV,b3InitRequestContactPointInformation,b3SetContactFilterBodyA,b3SetContactFilterBodyB,b3SetContactFilterLinkA,b3SetContactFilterLinkB,b3GetContactPointInformation,b3InitClosestDistanceQuery,b3SetClosestDistanceFilterBodyA,b3SetClosestDistanceFilterLinkA,b3SetClosestDistanceFilterBodyB,b3SetClosestDistanceFilterLinkB,b3SetClosestDistanceThreshold,b3SetClosestDistanceFilterCollisionShapeA,b3SetClosestDistanceFilterCollisionShapeB,b3SetClosestDistanceFilterCollisionShapePositionA,b3SetClosestDistanceFilterCollisionShapePositionB,b3SetClosestDistanceFilterCollisionShapeOrientationA,b3SetClosestDistanceFilterCollisionShapeOrientationB,b3GetClosestPointInformation,b3InitAABBOverlapQuery,b3GetAABBOverlapResults,b3InitRequestVisualShapeInformation,b3GetVisualShapeInformation,b3InitRequestCollisionShapeInformation,b3GetCollisionShapeInformation,b3InitLoadTexture,b3GetStatusTextureUniqueId,b3CreateChangeTextureCommandInit,b3InitUpdateVisualShape,b3UpdateVisualShapeRGBAColor,b3UpdateVisualShapeSpecularColor,b3InitPhysicsParamCommand,b3InitPhysicsParamCommand2,b3PhysicsParamSetGravity,b3PhysicsParamSetTimeStep,b3PhysicsParamSetDefaultContactERP,b3PhysicsParamSetDefaultNonContactERP,b3PhysicsParamSetDefaultFrictionERP,b3PhysicsParamSetDefaultGlobalCFM,b3PhysicsParamSetDefaultFrictionCFM,b3PhysicsParamSetNumSubSteps,b3PhysicsParamSetRealTimeSimulation,b3PhysicsParamSetNumSolverIterations,b3PhysicsParamSetCollisionFilterMode,b3PhysicsParamSetUseSplitImpulse,b3PhysicsParamSetSplitImpulsePenetrationThreshold,b3PhysicsParamSetContactBreakingThreshold,b3PhysicsParamSetMaxNumCommandsPer1ms,b3PhysicsParamSetEnableFileCaching,b3PhysicsParamSetRestitutionVelocityThreshold,b3PhysicsParamSetEnableConeFriction,b3PhysicsParameterSetDeterministicOverlappingPairs,b3PhysicsParameterSetAllowedCcdPenetration,b3PhysicsParameterSetJointFeedbackMode,b3PhysicsParamSetSolverResidualThreshold,b3PhysicsParamSetContactSlop,b3PhysicsParameterSetEnableSAT,b3PhysicsParameterSetConstraintSolverType,b3PhysicsParameterSetMinimumSolverIslandSize,b3InitRequestPhysicsParamCommand,b3GetStatusPhysicsSimulationParameters,b3PhysicsParamSetInternalSimFlags,b3InitStepSimulationCommand,b3InitStepSimulationCommand2,b3InitResetSimulationCommand,b3InitResetSimulationCommand2,b3LoadUrdfCommandInit,b3LoadUrdfCommandInit2,b3LoadUrdfCommandSetStartPosition,b3LoadUrdfCommandSetStartOrientation,b3LoadUrdfCommandSetUseMultiBody,b3LoadUrdfCommandSetUseFixedBase,b3LoadUrdfCommandSetFlags,b3LoadUrdfCommandSetGlobalScaling,b3SaveStateCommandInit,b3GetStatusGetStateId,b3LoadStateCommandInit,b3LoadStateSetStateId,b3LoadStateSetFileName,b3LoadBulletCommandInit,b3SaveBulletCommandInit,b3LoadMJCFCommandInit,b3LoadMJCFCommandInit2,b3LoadMJCFCommandSetFlags,b3CalculateInverseDynamicsCommandInit,b3GetStatusInverseDynamicsJointForces,b3CalculateJacobianCommandInit,b3GetStatusJacobian,b3CalculateMassMatrixCommandInit,b3GetStatusMassMatrix,b3CalculateInverseKinematicsCommandInit,b3CalculateInverseKinematicsAddTargetPurePosition,b3CalculateInverseKinematicsAddTargetPositionWithOrientation,b3CalculateInverseKinematicsPosWithNullSpaceVel,b3CalculateInverseKinematicsPosOrnWithNullSpaceVel,b3CalculateInverseKinematicsSetJointDamping,b3CalculateInverseKinematicsSelectSolver,b3GetStatusInverseKinematicsJointPositions,b3CalculateInverseKinematicsSetCurrentPositions,b3CalculateInverseKinematicsSetMaxNumIterations,b3CalculateInverseKinematicsSetResidualThreshold,b3CollisionFilterCommandInit,b3SetCollisionFilterPair,b3SetCollisionFilterGroupMask,b3LoadSdfCommandInit,b3LoadSdfCommandInit2,b3LoadSdfCommandSetUseMultiBody,b3LoadSdfCommandSetUseGlobalScaling,b3SaveWorldCommandInit,b3JointControlCommandInit,b3JointControlCommandInit2,b3JointControlCommandInit2Internal,b3JointControlSetDesiredPosition,b3JointControlSetKp,b3JointControlSetKd,b3JointControlSetMaximumVelocity,b3JointControlSetDesiredVelocity,b3JointControlSetMaximumForce,b3JointControlSetDesiredForceTorque,b3CreateCollisionShapeCommandInit,b3CreateCollisionShapeAddSphere,b3CreateCollisionShapeAddBox,b3CreateCollisionShapeAddCapsule,b3CreateCollisionShapeAddCylinder,b3CreateCollisionShapeAddPlane,b3CreateCollisionShapeAddMesh,b3CreateCollisionSetFlag,b3CreateCollisionShapeSetChildTransform,b3GetStatusCollisionShapeUniqueId,b3InitRemoveCollisionShapeCommand,b3CreateVisualShapeCommandInit,b3CreateVisualShapeAddSphere,b3CreateVisualShapeAddBox,b3CreateVisualShapeAddCapsule,b3CreateVisualShapeAddCylinder,b3CreateVisualShapeAddPlane,b3CreateVisualShapeAddMesh,b3CreateVisualSetFlag,b3CreateVisualShapeSetChildTransform,b3CreateVisualShapeSetSpecularColor,b3CreateVisualShapeSetRGBAColor,b3GetStatusVisualShapeUniqueId,b3CreateMultiBodyCommandInit,b3CreateMultiBodyBase,b3CreateMultiBodyLink,b3CreateMultiBodyUseMaximalCoordinates,b3CreateMultiBodySetFlags,b3CreateBoxShapeCommandInit,b3CreateBoxCommandSetStartPosition,b3CreateBoxCommandSetStartOrientation,b3CreateBoxCommandSetHalfExtents,b3CreateBoxCommandSetMass,b3CreateBoxCommandSetCollisionShapeType,b3CreateBoxCommandSetColorRGBA,b3CreatePoseCommandInit,b3CreatePoseCommandInit2,b3CreatePoseCommandSetBasePosition,b3CreatePoseCommandSetBaseOrientation,b3CreatePoseCommandSetBaseLinearVelocity,b3CreatePoseCommandSetBaseAngularVelocity,b3CreatePoseCommandSetJointPositions,b3CreatePoseCommandSetJointPosition,b3CreatePoseCommandSetJointPositionMultiDof,b3CreatePoseCommandSetQ,b3CreatePoseCommandSetQdots,b3CreatePoseCommandSetJointVelocities,b3CreatePoseCommandSetJointVelocity,b3CreatePoseCommandSetJointVelocityMultiDof,b3CreateSensorCommandInit,b3CreateSensorEnable6DofJointForceTorqueSensor,b3CreateSensorEnableIMUForLink,b3RequestActualStateCommandInit,b3RequestActualStateCommandInit2,b3RequestActualStateCommandComputeLinkVelocity,b3RequestActualStateCommandComputeForwardKinematics,b3GetJointState,b3GetJointStateMultiDof,b3GetLinkState,b3PickBody,b3MovePickedBody,b3RemovePickingConstraint,b3CreateRaycastCommandInit,b3CreateRaycastBatchCommandInit,b3RaycastBatchSetNumThreads,b3RaycastBatchAddRay,b3RaycastBatchAddRays,b3RaycastBatchSetParentObject,b3GetRaycastInformation,b3ApplyExternalForceCommandInit,b3ApplyExternalForce,b3ApplyExternalTorque,b3LoadSoftBodyCommandInit,b3LoadSoftBodySetScale,b3LoadSoftBodySetMass,b3LoadSoftBodySetCollisionMargin,b3RequestVREventsCommandInit,b3VREventsSetDeviceTypeFilter,b3GetVREventsData,b3SetVRCameraStateCommandInit,b3SetVRCameraRootPosition,b3SetVRCameraRootOrientation,b3SetVRCameraTrackingObject,b3SetVRCameraTrackingObjectFlag,b3RequestKeyboardEventsCommandInit,b3RequestKeyboardEventsCommandInit2,b3GetKeyboardEventsData,b3RequestMouseEventsCommandInit,b3GetMouseEventsData,b3StateLoggingCommandInit,b3StateLoggingStart,b3StateLoggingAddLoggingObjectUniqueId,b3StateLoggingSetMaxLogDof,b3StateLoggingSetLinkIndexA,b3StateLoggingSetLinkIndexB,b3StateLoggingSetBodyAUniqueId,b3StateLoggingSetBodyBUniqueId,b3StateLoggingSetDeviceTypeFilter,b3StateLoggingSetLogFlags,b3GetStatusLoggingUniqueId,b3StateLoggingStop,b3ProfileTimingCommandInit,b3SetProfileTimingDuractionInMicroSeconds,b3PushProfileTiming,b3PopProfileTiming,b3SetTimeOut,b3GetTimeOut,b3SetAdditionalSearchPath,b3MultiplyTransforms,b3InvertTransform");
+
     static { LibBullet.initialize(); }
 
     protected PhysicsClient() {
@@ -1056,7 +1058,8 @@ public class PhysicsClient {
         if (CHECKS) {
             checkNT1Safe(hostName);
         }
-        return nb3ConnectPhysicsTCP(memAddressSafe(hostName), port);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nb3ConnectPhysicsTCP(memAddressSafe(hostName), port));
     }
 
     /** Send physics commands using TCP networking. */
@@ -1066,7 +1069,8 @@ public class PhysicsClient {
         try {
             stack.nASCIISafe(hostName, true);
             long hostNameEncoded = hostName == null ? NULL : stack.getPointerAddress();
-            return nb3ConnectPhysicsTCP(hostNameEncoded, port);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nb3ConnectPhysicsTCP(hostNameEncoded, port));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1083,7 +1087,8 @@ public class PhysicsClient {
         if (CHECKS) {
             checkNT1Safe(hostName);
         }
-        return nb3ConnectPhysicsUDP(memAddressSafe(hostName), port);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nb3ConnectPhysicsUDP(memAddressSafe(hostName), port));
     }
 
     /** Send physics commands using UDP networking. */
@@ -1093,7 +1098,8 @@ public class PhysicsClient {
         try {
             stack.nASCIISafe(hostName, true);
             long hostNameEncoded = hostName == null ? NULL : stack.getPointerAddress();
-            return nb3ConnectPhysicsUDP(hostNameEncoded, port);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, nb3ConnectPhysicsUDP(hostNameEncoded, port));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1109,7 +1115,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3DisconnectSharedMemory(physClient);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ b3CanSubmitCommand ] ---
@@ -1123,7 +1131,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CanSubmitCommand(physClient) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nb3CanSubmitCommand(physClient)) != 0;
     }
 
     // --- [ b3SubmitClientCommandAndWaitStatus ] ---
@@ -1138,7 +1147,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3SubmitClientCommandAndWaitStatus(physClient, commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nb3SubmitClientCommandAndWaitStatus(physClient, commandHandle));
     }
 
     // --- [ b3SubmitClientCommand ] ---
@@ -1157,7 +1167,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3SubmitClientCommand(physClient, commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nb3SubmitClientCommand(physClient, commandHandle));
     }
 
     // --- [ b3ProcessServerStatus ] ---
@@ -1171,7 +1182,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3ProcessServerStatus(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nb3ProcessServerStatus(physClient));
     }
 
     // --- [ b3GetStatusType ] ---
@@ -1184,7 +1196,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusType(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nb3GetStatusType(statusHandle));
     }
 
     // --- [ b3CreateCustomCommand ] ---
@@ -1196,7 +1209,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateCustomCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nb3CreateCustomCommand(physClient));
     }
 
     // --- [ b3CustomCommandLoadPlugin ] ---
@@ -1208,7 +1222,9 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(pluginPath);
         }
+        long __start = FunctionProfiler.start();
         nb3CustomCommandLoadPlugin(commandHandle, memAddress(pluginPath));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void b3CustomCommandLoadPlugin(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, @NativeType("char const *") CharSequence pluginPath) {
@@ -1219,7 +1235,9 @@ public class PhysicsClient {
         try {
             stack.nASCII(pluginPath, true);
             long pluginPathEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nb3CustomCommandLoadPlugin(commandHandle, pluginPathEncoded);
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1234,7 +1252,9 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(postFix);
         }
+        long __start = FunctionProfiler.start();
         nb3CustomCommandLoadPluginSetPostFix(commandHandle, memAddress(postFix));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void b3CustomCommandLoadPluginSetPostFix(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, @NativeType("char const *") CharSequence postFix) {
@@ -1245,7 +1265,9 @@ public class PhysicsClient {
         try {
             stack.nASCII(postFix, true);
             long postFixEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nb3CustomCommandLoadPluginSetPostFix(commandHandle, postFixEncoded);
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1259,7 +1281,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusPluginUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nb3GetStatusPluginUniqueId(statusHandle));
     }
 
     // --- [ b3GetStatusPluginCommandResult ] ---
@@ -1270,7 +1293,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusPluginCommandResult(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nb3GetStatusPluginCommandResult(statusHandle));
     }
 
     // --- [ b3CustomCommandUnloadPlugin ] ---
@@ -1281,7 +1305,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CustomCommandUnloadPlugin(commandHandle, pluginUniqueId);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ b3CustomCommandExecutePluginCommand ] ---
@@ -1293,7 +1319,9 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(textArguments);
         }
+        long __start = FunctionProfiler.start();
         nb3CustomCommandExecutePluginCommand(commandHandle, pluginUniqueId, memAddress(textArguments));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     public static void b3CustomCommandExecutePluginCommand(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, int pluginUniqueId, @NativeType("char const *") CharSequence textArguments) {
@@ -1304,7 +1332,9 @@ public class PhysicsClient {
         try {
             stack.nASCII(textArguments, true);
             long textArgumentsEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nb3CustomCommandExecutePluginCommand(commandHandle, pluginUniqueId, textArgumentsEncoded);
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1318,7 +1348,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CustomCommandExecuteAddIntArgument(commandHandle, intVal);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ b3CustomCommandExecuteAddFloatArgument ] ---
@@ -1329,7 +1361,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CustomCommandExecuteAddFloatArgument(commandHandle, floatVal);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ b3GetStatusBodyIndices ] ---
@@ -1340,7 +1374,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusBodyIndices(statusHandle, memAddress(bodyIndicesOut), bodyIndicesOut.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nb3GetStatusBodyIndices(statusHandle, memAddress(bodyIndicesOut), bodyIndicesOut.remaining()));
     }
 
     // --- [ b3GetStatusBodyIndex ] ---
@@ -1351,7 +1386,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusBodyIndex(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nb3GetStatusBodyIndex(statusHandle));
     }
 
     // --- [ b3GetStatusActualState ] ---
@@ -1369,7 +1405,8 @@ public class PhysicsClient {
             checkSafe(actualStateQdot, 1);
             checkSafe(jointReactionForces, 1);
         }
-        return nb3GetStatusActualState(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(numDegreeOfFreedomQ), memAddressSafe(numDegreeOfFreedomU), memAddressSafe(rootLocalInertialFrame), memAddressSafe(actualStateQ), memAddressSafe(actualStateQdot), memAddressSafe(jointReactionForces));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nb3GetStatusActualState(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(numDegreeOfFreedomQ), memAddressSafe(numDegreeOfFreedomU), memAddressSafe(rootLocalInertialFrame), memAddressSafe(actualStateQ), memAddressSafe(actualStateQdot), memAddressSafe(jointReactionForces)));
     }
 
     // --- [ b3GetStatusActualState2 ] ---
@@ -1392,7 +1429,8 @@ public class PhysicsClient {
             checkSafe(linkStates, 1);
             checkSafe(linkWorldVelocities, 1);
         }
-        return nb3GetStatusActualState2(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(numLinks), memAddressSafe(numDegreeOfFreedomQ), memAddressSafe(numDegreeOfFreedomU), memAddressSafe(rootLocalInertialFrame), memAddressSafe(actualStateQ), memAddressSafe(actualStateQdot), memAddressSafe(jointReactionForces), memAddressSafe(linkLocalInertialFrames), memAddressSafe(jointMotorForces), memAddressSafe(linkStates), memAddressSafe(linkWorldVelocities));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nb3GetStatusActualState2(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(numLinks), memAddressSafe(numDegreeOfFreedomQ), memAddressSafe(numDegreeOfFreedomU), memAddressSafe(rootLocalInertialFrame), memAddressSafe(actualStateQ), memAddressSafe(actualStateQdot), memAddressSafe(jointReactionForces), memAddressSafe(linkLocalInertialFrames), memAddressSafe(jointMotorForces), memAddressSafe(linkStates), memAddressSafe(linkWorldVelocities)));
     }
 
     // --- [ b3RequestCollisionInfoCommandInit ] ---
@@ -1404,7 +1442,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3RequestCollisionInfoCommandInit(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nb3RequestCollisionInfoCommandInit(physClient, bodyUniqueId));
     }
 
     // --- [ b3GetStatusAABB ] ---
@@ -1417,7 +1456,8 @@ public class PhysicsClient {
             check(aabbMin, 3);
             check(aabbMax, 3);
         }
-        return nb3GetStatusAABB(statusHandle, linkIndex, memAddress(aabbMin), memAddress(aabbMax));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nb3GetStatusAABB(statusHandle, linkIndex, memAddress(aabbMin), memAddress(aabbMax)));
     }
 
     // --- [ b3InitSyncBodyInfoCommand ] ---
@@ -1431,7 +1471,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitSyncBodyInfoCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nb3InitSyncBodyInfoCommand(physClient));
     }
 
     // --- [ b3InitRemoveBodyCommand ] ---
@@ -1443,7 +1484,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRemoveBodyCommand(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nb3InitRemoveBodyCommand(physClient, bodyUniqueId));
     }
 
     // --- [ b3GetNumBodies ] ---
@@ -1454,7 +1496,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetNumBodies(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nb3GetNumBodies(physClient));
     }
 
     // --- [ b3GetBodyUniqueId ] ---
@@ -1465,7 +1508,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetBodyUniqueId(physClient, serialIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nb3GetBodyUniqueId(physClient, serialIndex));
     }
 
     // --- [ b3GetBodyInfo ] ---
@@ -1476,7 +1520,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetBodyInfo(physClient, bodyUniqueId, info.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nb3GetBodyInfo(physClient, bodyUniqueId, info.address()));
     }
 
     // --- [ b3GetNumJoints ] ---
@@ -1487,7 +1532,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetNumJoints(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nb3GetNumJoints(physClient, bodyUniqueId));
     }
 
     // --- [ b3ComputeDofCount ] ---
@@ -1498,7 +1544,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3ComputeDofCount(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nb3ComputeDofCount(physClient, bodyUniqueId));
     }
 
     // --- [ b3GetJointInfo ] ---
@@ -1509,7 +1556,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetJointInfo(physClient, bodyUniqueId, jointIndex, info.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, nb3GetJointInfo(physClient, bodyUniqueId, jointIndex, info.address()));
     }
 
     // --- [ b3InitSyncUserDataCommand ] ---
@@ -1521,7 +1569,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitSyncUserDataCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, nb3InitSyncUserDataCommand(physClient));
     }
 
     // --- [ b3InitAddUserDataCommand ] ---
@@ -1534,7 +1583,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(key);
         }
-        return nb3InitAddUserDataCommand(physClient, bodyUniqueId, linkIndex, visualShapeIndex, memAddress(key), valueType, valueData.remaining(), memAddress(valueData));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, nb3InitAddUserDataCommand(physClient, bodyUniqueId, linkIndex, visualShapeIndex, memAddress(key), valueType, valueData.remaining(), memAddress(valueData)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -1546,7 +1596,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(key, true);
             long keyEncoded = stack.getPointerAddress();
-            return nb3InitAddUserDataCommand(physClient, bodyUniqueId, linkIndex, visualShapeIndex, keyEncoded, valueType, valueData.remaining(), memAddress(valueData));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 32, __start, nb3InitAddUserDataCommand(physClient, bodyUniqueId, linkIndex, visualShapeIndex, keyEncoded, valueType, valueData.remaining(), memAddress(valueData)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1561,7 +1612,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRemoveUserDataCommand(physClient, userDataId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nb3InitRemoveUserDataCommand(physClient, userDataId));
     }
 
     // --- [ b3GetUserData ] ---
@@ -1572,7 +1624,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetUserData(physClient, userDataId, valueOut.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, nb3GetUserData(physClient, userDataId, valueOut.address()));
     }
 
     // --- [ b3GetUserDataId ] ---
@@ -1584,7 +1637,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(key);
         }
-        return nb3GetUserDataId(physClient, bodyUniqueId, linkIndex, visualShapeIndex, memAddress(key));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nb3GetUserDataId(physClient, bodyUniqueId, linkIndex, visualShapeIndex, memAddress(key)));
     }
 
     public static int b3GetUserDataId(@NativeType("b3PhysicsClientHandle") long physClient, int bodyUniqueId, int linkIndex, int visualShapeIndex, @NativeType("char const *") CharSequence key) {
@@ -1595,7 +1649,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(key, true);
             long keyEncoded = stack.getPointerAddress();
-            return nb3GetUserDataId(physClient, bodyUniqueId, linkIndex, visualShapeIndex, keyEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 35, __start, nb3GetUserDataId(physClient, bodyUniqueId, linkIndex, visualShapeIndex, keyEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1609,7 +1664,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetUserDataIdFromStatus(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nb3GetUserDataIdFromStatus(statusHandle));
     }
 
     // --- [ b3GetNumUserData ] ---
@@ -1620,7 +1676,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetNumUserData(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, nb3GetNumUserData(physClient, bodyUniqueId));
     }
 
     // --- [ b3GetUserDataInfo ] ---
@@ -1635,7 +1692,9 @@ public class PhysicsClient {
             check(linkIndexOut, 1);
             check(visualShapeIndexOut, 1);
         }
+        long __start = FunctionProfiler.start();
         nb3GetUserDataInfo(physClient, bodyUniqueId, userDataIndex, memAddress(keyOut), memAddress(userDataIdOut), memAddress(linkIndexOut), memAddress(visualShapeIndexOut));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ b3GetDynamicsInfoCommandInit ] ---
@@ -1647,7 +1706,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetDynamicsInfoCommandInit(physClient, bodyUniqueId, linkIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, nb3GetDynamicsInfoCommandInit(physClient, bodyUniqueId, linkIndex));
     }
 
     // --- [ b3GetDynamicsInfoCommandInit2 ] ---
@@ -1659,7 +1719,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3GetDynamicsInfoCommandInit2(commandHandle, bodyUniqueId, linkIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, nb3GetDynamicsInfoCommandInit2(commandHandle, bodyUniqueId, linkIndex));
     }
 
     // --- [ b3GetDynamicsInfo ] ---
@@ -1672,7 +1733,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetDynamicsInfo(statusHandle, info.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, nb3GetDynamicsInfo(statusHandle, info.address()));
     }
 
     // --- [ b3InitChangeDynamicsInfo ] ---
@@ -1684,7 +1746,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitChangeDynamicsInfo(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, nb3InitChangeDynamicsInfo(physClient));
     }
 
     // --- [ b3InitChangeDynamicsInfo2 ] ---
@@ -1696,7 +1759,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitChangeDynamicsInfo2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, nb3InitChangeDynamicsInfo2(commandHandle));
     }
 
     // --- [ b3ChangeDynamicsInfoSetMass ] ---
@@ -1707,7 +1771,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetMass(commandHandle, bodyUniqueId, linkIndex, mass);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nb3ChangeDynamicsInfoSetMass(commandHandle, bodyUniqueId, linkIndex, mass));
     }
 
     // --- [ b3ChangeDynamicsInfoSetLocalInertiaDiagonal ] ---
@@ -1719,7 +1784,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(localInertiaDiagonal, 3);
         }
-        return nb3ChangeDynamicsInfoSetLocalInertiaDiagonal(commandHandle, bodyUniqueId, linkIndex, memAddress(localInertiaDiagonal));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, nb3ChangeDynamicsInfoSetLocalInertiaDiagonal(commandHandle, bodyUniqueId, linkIndex, memAddress(localInertiaDiagonal)));
     }
 
     // --- [ b3ChangeDynamicsInfoSetLateralFriction ] ---
@@ -1730,7 +1796,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetLateralFriction(commandHandle, bodyUniqueId, linkIndex, lateralFriction);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, nb3ChangeDynamicsInfoSetLateralFriction(commandHandle, bodyUniqueId, linkIndex, lateralFriction));
     }
 
     // --- [ b3ChangeDynamicsInfoSetSpinningFriction ] ---
@@ -1741,7 +1808,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetSpinningFriction(commandHandle, bodyUniqueId, linkIndex, friction);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, nb3ChangeDynamicsInfoSetSpinningFriction(commandHandle, bodyUniqueId, linkIndex, friction));
     }
 
     // --- [ b3ChangeDynamicsInfoSetRollingFriction ] ---
@@ -1752,7 +1820,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetRollingFriction(commandHandle, bodyUniqueId, linkIndex, friction);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, nb3ChangeDynamicsInfoSetRollingFriction(commandHandle, bodyUniqueId, linkIndex, friction));
     }
 
     // --- [ b3ChangeDynamicsInfoSetRestitution ] ---
@@ -1763,7 +1832,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetRestitution(commandHandle, bodyUniqueId, linkIndex, restitution);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, nb3ChangeDynamicsInfoSetRestitution(commandHandle, bodyUniqueId, linkIndex, restitution));
     }
 
     // --- [ b3ChangeDynamicsInfoSetLinearDamping ] ---
@@ -1774,7 +1844,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetLinearDamping(commandHandle, bodyUniqueId, linearDamping);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, nb3ChangeDynamicsInfoSetLinearDamping(commandHandle, bodyUniqueId, linearDamping));
     }
 
     // --- [ b3ChangeDynamicsInfoSetAngularDamping ] ---
@@ -1785,7 +1856,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetAngularDamping(commandHandle, bodyUniqueId, angularDamping);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, nb3ChangeDynamicsInfoSetAngularDamping(commandHandle, bodyUniqueId, angularDamping));
     }
 
     // --- [ b3ChangeDynamicsInfoSetContactStiffnessAndDamping ] ---
@@ -1796,7 +1868,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetContactStiffnessAndDamping(commandHandle, bodyUniqueId, linkIndex, contactStiffness, contactDamping);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, nb3ChangeDynamicsInfoSetContactStiffnessAndDamping(commandHandle, bodyUniqueId, linkIndex, contactStiffness, contactDamping));
     }
 
     // --- [ b3ChangeDynamicsInfoSetFrictionAnchor ] ---
@@ -1807,7 +1880,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetFrictionAnchor(commandHandle, bodyUniqueId, linkIndex, frictionAnchor);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, nb3ChangeDynamicsInfoSetFrictionAnchor(commandHandle, bodyUniqueId, linkIndex, frictionAnchor));
     }
 
     // --- [ b3ChangeDynamicsInfoSetCcdSweptSphereRadius ] ---
@@ -1818,7 +1892,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetCcdSweptSphereRadius(commandHandle, bodyUniqueId, linkIndex, ccdSweptSphereRadius);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, nb3ChangeDynamicsInfoSetCcdSweptSphereRadius(commandHandle, bodyUniqueId, linkIndex, ccdSweptSphereRadius));
     }
 
     // --- [ b3ChangeDynamicsInfoSetContactProcessingThreshold ] ---
@@ -1829,7 +1904,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetContactProcessingThreshold(commandHandle, bodyUniqueId, linkIndex, contactProcessingThreshold);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, nb3ChangeDynamicsInfoSetContactProcessingThreshold(commandHandle, bodyUniqueId, linkIndex, contactProcessingThreshold));
     }
 
     // --- [ b3ChangeDynamicsInfoSetActivationState ] ---
@@ -1840,7 +1916,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3ChangeDynamicsInfoSetActivationState(commandHandle, bodyUniqueId, activationState);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, nb3ChangeDynamicsInfoSetActivationState(commandHandle, bodyUniqueId, activationState));
     }
 
     // --- [ b3InitCreateUserConstraintCommand ] ---
@@ -1852,7 +1929,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitCreateUserConstraintCommand(physClient, parentBodyUniqueId, parentJointIndex, childBodyUniqueId, childJointIndex, info.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, nb3InitCreateUserConstraintCommand(physClient, parentBodyUniqueId, parentJointIndex, childBodyUniqueId, childJointIndex, info.address()));
     }
 
     // --- [ b3InitCreateUserConstraintCommand2 ] ---
@@ -1864,7 +1942,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitCreateUserConstraintCommand2(commandHandle, parentBodyUniqueId, parentJointIndex, childBodyUniqueId, childJointIndex, info.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, nb3InitCreateUserConstraintCommand2(commandHandle, parentBodyUniqueId, parentJointIndex, childBodyUniqueId, childJointIndex, info.address()));
     }
 
     // --- [ b3GetStatusUserConstraintUniqueId ] ---
@@ -1875,7 +1954,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusUserConstraintUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, nb3GetStatusUserConstraintUniqueId(statusHandle));
     }
 
     // --- [ b3InitChangeUserConstraintCommand ] ---
@@ -1887,7 +1967,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitChangeUserConstraintCommand(physClient, userConstraintUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, nb3InitChangeUserConstraintCommand(physClient, userConstraintUniqueId));
     }
 
     // --- [ b3InitChangeUserConstraintSetPivotInB ] ---
@@ -1899,7 +1980,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(jointChildPivot, 3);
         }
-        return nb3InitChangeUserConstraintSetPivotInB(commandHandle, memAddress(jointChildPivot));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, nb3InitChangeUserConstraintSetPivotInB(commandHandle, memAddress(jointChildPivot)));
     }
 
     // --- [ b3InitChangeUserConstraintSetFrameInB ] ---
@@ -1911,7 +1993,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(jointChildFrameOrn, 4);
         }
-        return nb3InitChangeUserConstraintSetFrameInB(commandHandle, memAddress(jointChildFrameOrn));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, nb3InitChangeUserConstraintSetFrameInB(commandHandle, memAddress(jointChildFrameOrn)));
     }
 
     // --- [ b3InitChangeUserConstraintSetMaxForce ] ---
@@ -1922,7 +2005,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitChangeUserConstraintSetMaxForce(commandHandle, maxAppliedForce);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, nb3InitChangeUserConstraintSetMaxForce(commandHandle, maxAppliedForce));
     }
 
     // --- [ b3InitChangeUserConstraintSetGearRatio ] ---
@@ -1933,7 +2017,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitChangeUserConstraintSetGearRatio(commandHandle, gearRatio);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, nb3InitChangeUserConstraintSetGearRatio(commandHandle, gearRatio));
     }
 
     // --- [ b3InitChangeUserConstraintSetGearAuxLink ] ---
@@ -1944,7 +2029,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitChangeUserConstraintSetGearAuxLink(commandHandle, gearAuxLink);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, nb3InitChangeUserConstraintSetGearAuxLink(commandHandle, gearAuxLink));
     }
 
     // --- [ b3InitChangeUserConstraintSetRelativePositionTarget ] ---
@@ -1955,7 +2041,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitChangeUserConstraintSetRelativePositionTarget(commandHandle, relativePositionTarget);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, nb3InitChangeUserConstraintSetRelativePositionTarget(commandHandle, relativePositionTarget));
     }
 
     // --- [ b3InitChangeUserConstraintSetERP ] ---
@@ -1966,7 +2053,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitChangeUserConstraintSetERP(commandHandle, erp);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, nb3InitChangeUserConstraintSetERP(commandHandle, erp));
     }
 
     // --- [ b3InitRemoveUserConstraintCommand ] ---
@@ -1978,7 +2066,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRemoveUserConstraintCommand(physClient, userConstraintUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, nb3InitRemoveUserConstraintCommand(physClient, userConstraintUniqueId));
     }
 
     // --- [ b3GetNumUserConstraints ] ---
@@ -1989,7 +2078,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetNumUserConstraints(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, nb3GetNumUserConstraints(physClient));
     }
 
     // --- [ b3InitGetUserConstraintStateCommand ] ---
@@ -2001,7 +2091,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitGetUserConstraintStateCommand(physClient, raintUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, nb3InitGetUserConstraintStateCommand(physClient, raintUniqueId));
     }
 
     // --- [ b3GetStatusUserConstraintState ] ---
@@ -2012,7 +2103,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusUserConstraintState(statusHandle, constraintState.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, nb3GetStatusUserConstraintState(statusHandle, constraintState.address()));
     }
 
     // --- [ b3GetUserConstraintInfo ] ---
@@ -2023,7 +2115,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetUserConstraintInfo(physClient, raintUniqueId, info.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, nb3GetUserConstraintInfo(physClient, raintUniqueId, info.address()));
     }
 
     // --- [ b3GetUserConstraintId ] ---
@@ -2034,7 +2127,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetUserConstraintId(physClient, serialIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, nb3GetUserConstraintId(physClient, serialIndex));
     }
 
     // --- [ b3InitRequestDebugLinesCommand ] ---
@@ -2046,7 +2140,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestDebugLinesCommand(physClient, debugMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, nb3InitRequestDebugLinesCommand(physClient, debugMode));
     }
 
     // --- [ b3GetDebugLines ] ---
@@ -2057,7 +2152,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetDebugLines(physClient, lines.address());
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     // --- [ b3InitConfigureOpenGLVisualizer ] ---
@@ -2069,7 +2166,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitConfigureOpenGLVisualizer(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, nb3InitConfigureOpenGLVisualizer(physClient));
     }
 
     // --- [ b3InitConfigureOpenGLVisualizer2 ] ---
@@ -2081,7 +2179,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitConfigureOpenGLVisualizer2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, nb3InitConfigureOpenGLVisualizer2(commandHandle));
     }
 
     // --- [ b3ConfigureOpenGLVisualizerSetVisualizationFlags ] ---
@@ -2092,7 +2191,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3ConfigureOpenGLVisualizerSetVisualizationFlags(commandHandle, flag, enabled ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     // --- [ b3ConfigureOpenGLVisualizerSetViewMatrix ] ---
@@ -2104,7 +2205,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(cameraTargetPosition, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3ConfigureOpenGLVisualizerSetViewMatrix(commandHandle, cameraDistance, cameraPitch, cameraYaw, memAddress(cameraTargetPosition));
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     // --- [ b3InitRequestOpenGLVisualizerCameraCommand ] ---
@@ -2116,7 +2219,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestOpenGLVisualizerCameraCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, nb3InitRequestOpenGLVisualizerCameraCommand(physClient));
     }
 
     // --- [ b3GetStatusOpenGLVisualizerCamera ] ---
@@ -2127,7 +2231,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusOpenGLVisualizerCamera(statusHandle, camera.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 81, __start, nb3GetStatusOpenGLVisualizerCamera(statusHandle, camera.address()));
     }
 
     // --- [ b3InitUserDebugDrawAddLine3D ] ---
@@ -2142,7 +2247,8 @@ public class PhysicsClient {
             check(toXYZ, 3);
             check(colorRGB, 3);
         }
-        return nb3InitUserDebugDrawAddLine3D(physClient, memAddress(fromXYZ), memAddress(toXYZ), memAddress(colorRGB), lineWidth, lifeTime);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, nb3InitUserDebugDrawAddLine3D(physClient, memAddress(fromXYZ), memAddress(toXYZ), memAddress(colorRGB), lineWidth, lifeTime));
     }
 
     // --- [ b3InitUserDebugDrawAddText3D ] ---
@@ -2157,7 +2263,8 @@ public class PhysicsClient {
             check(positionXYZ, 3);
             check(colorRGB, 3);
         }
-        return nb3InitUserDebugDrawAddText3D(physClient, memAddress(txt), memAddress(positionXYZ), memAddress(colorRGB), textSize, lifeTime);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 83, __start, nb3InitUserDebugDrawAddText3D(physClient, memAddress(txt), memAddress(positionXYZ), memAddress(colorRGB), textSize, lifeTime));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -2171,7 +2278,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(txt, true);
             long txtEncoded = stack.getPointerAddress();
-            return nb3InitUserDebugDrawAddText3D(physClient, txtEncoded, memAddress(positionXYZ), memAddress(colorRGB), textSize, lifeTime);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 83, __start, nb3InitUserDebugDrawAddText3D(physClient, txtEncoded, memAddress(positionXYZ), memAddress(colorRGB), textSize, lifeTime));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2185,7 +2293,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3UserDebugTextSetOptionFlags(commandHandle, optionFlags);
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     // --- [ b3UserDebugTextSetOrientation ] ---
@@ -2197,7 +2307,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(orientation, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3UserDebugTextSetOrientation(commandHandle, memAddress(orientation));
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     // --- [ b3UserDebugItemSetReplaceItemUniqueId ] ---
@@ -2208,7 +2320,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3UserDebugItemSetReplaceItemUniqueId(commandHandle, replaceItem);
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     // --- [ b3UserDebugItemSetParentObject ] ---
@@ -2219,7 +2333,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3UserDebugItemSetParentObject(commandHandle, objectUniqueId, linkIndex);
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     // --- [ b3InitUserDebugAddParameter ] ---
@@ -2232,7 +2348,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(txt);
         }
-        return nb3InitUserDebugAddParameter(physClient, memAddress(txt), rangeMin, rangeMax, startValue);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 88, __start, nb3InitUserDebugAddParameter(physClient, memAddress(txt), rangeMin, rangeMax, startValue));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -2244,7 +2361,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(txt, true);
             long txtEncoded = stack.getPointerAddress();
-            return nb3InitUserDebugAddParameter(physClient, txtEncoded, rangeMin, rangeMax, startValue);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 88, __start, nb3InitUserDebugAddParameter(physClient, txtEncoded, rangeMin, rangeMax, startValue));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2259,7 +2377,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitUserDebugReadParameter(physClient, debugItemUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, nb3InitUserDebugReadParameter(physClient, debugItemUniqueId));
     }
 
     // --- [ b3GetStatusDebugParameterValue ] ---
@@ -2271,7 +2390,8 @@ public class PhysicsClient {
             check(statusHandle);
             check(paramValue, 1);
         }
-        return nb3GetStatusDebugParameterValue(statusHandle, memAddress(paramValue));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, nb3GetStatusDebugParameterValue(statusHandle, memAddress(paramValue)));
     }
 
     // --- [ b3InitUserDebugDrawRemove ] ---
@@ -2283,7 +2403,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitUserDebugDrawRemove(physClient, debugItemUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, nb3InitUserDebugDrawRemove(physClient, debugItemUniqueId));
     }
 
     // --- [ b3InitUserDebugDrawRemoveAll ] ---
@@ -2295,7 +2416,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitUserDebugDrawRemoveAll(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 92, __start, nb3InitUserDebugDrawRemoveAll(physClient));
     }
 
     // --- [ b3InitDebugDrawingCommand ] ---
@@ -2307,7 +2429,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitDebugDrawingCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, nb3InitDebugDrawingCommand(physClient));
     }
 
     // --- [ b3SetDebugObjectColor ] ---
@@ -2319,7 +2442,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(objectColorRGB, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3SetDebugObjectColor(commandHandle, objectUniqueId, linkIndex, memAddress(objectColorRGB));
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     // --- [ b3RemoveDebugObjectColor ] ---
@@ -2330,7 +2455,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RemoveDebugObjectColor(commandHandle, objectUniqueId, linkIndex);
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     // --- [ b3GetDebugItemUniqueId ] ---
@@ -2341,7 +2468,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetDebugItemUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 96, __start, nb3GetDebugItemUniqueId(statusHandle));
     }
 
     // --- [ b3InitRequestCameraImage ] ---
@@ -2353,7 +2481,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestCameraImage(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 97, __start, nb3InitRequestCameraImage(physClient));
     }
 
     // --- [ b3InitRequestCameraImage2 ] ---
@@ -2365,7 +2494,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitRequestCameraImage2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 98, __start, nb3InitRequestCameraImage2(commandHandle));
     }
 
     // --- [ b3RequestCameraImageSetCameraMatrices ] ---
@@ -2378,7 +2508,9 @@ public class PhysicsClient {
             check(viewMatrix, 16);
             check(projectionMatrix, 16);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetCameraMatrices(commandHandle, memAddress(viewMatrix), memAddress(projectionMatrix));
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     // --- [ b3RequestCameraImageSetPixelResolution ] ---
@@ -2389,7 +2521,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetPixelResolution(commandHandle, width, height);
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     // --- [ b3RequestCameraImageSetLightDirection ] ---
@@ -2401,7 +2535,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(lightDirection, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetLightDirection(commandHandle, memAddress(lightDirection));
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     // --- [ b3RequestCameraImageSetLightColor ] ---
@@ -2413,7 +2549,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(lightColor, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetLightColor(commandHandle, memAddress(lightColor));
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     // --- [ b3RequestCameraImageSetLightDistance ] ---
@@ -2424,7 +2562,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetLightDistance(commandHandle, lightDistance);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     // --- [ b3RequestCameraImageSetLightAmbientCoeff ] ---
@@ -2435,7 +2575,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetLightAmbientCoeff(commandHandle, lightAmbientCoeff);
+        FunctionProfiler.end(PROFILE_ID + 104, __start);
     }
 
     // --- [ b3RequestCameraImageSetLightDiffuseCoeff ] ---
@@ -2446,7 +2588,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetLightDiffuseCoeff(commandHandle, lightDiffuseCoeff);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     // --- [ b3RequestCameraImageSetLightSpecularCoeff ] ---
@@ -2457,7 +2601,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetLightSpecularCoeff(commandHandle, lightSpecularCoeff);
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     // --- [ b3RequestCameraImageSetShadow ] ---
@@ -2468,7 +2614,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetShadow(commandHandle, hasShadow);
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     // --- [ b3RequestCameraImageSelectRenderer ] ---
@@ -2479,7 +2627,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSelectRenderer(commandHandle, renderer);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     // --- [ b3RequestCameraImageSetFlags ] ---
@@ -2490,7 +2640,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetFlags(commandHandle, flags);
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     // --- [ b3GetCameraImageData ] ---
@@ -2501,7 +2653,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetCameraImageData(physClient, imageData.address());
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     // --- [ b3RequestCameraImageSetProjectiveTextureMatrices ] ---
@@ -2514,7 +2668,9 @@ public class PhysicsClient {
             check(viewMatrix, 16);
             check(projectionMatrix, 16);
         }
+        long __start = FunctionProfiler.start();
         nb3RequestCameraImageSetProjectiveTextureMatrices(commandHandle, memAddress(viewMatrix), memAddress(projectionMatrix));
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     // --- [ b3ComputeViewMatrixFromPositions ] ---
@@ -2528,7 +2684,9 @@ public class PhysicsClient {
             check(cameraUp, 3);
             check(viewMatrix, 16);
         }
+        long __start = FunctionProfiler.start();
         nb3ComputeViewMatrixFromPositions(memAddress(cameraPosition), memAddress(cameraTargetPosition), memAddress(cameraUp), memAddress(viewMatrix));
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     // --- [ b3ComputeViewMatrixFromYawPitchRoll ] ---
@@ -2540,7 +2698,9 @@ public class PhysicsClient {
             check(cameraTargetPosition, 3);
             check(viewMatrix, 16);
         }
+        long __start = FunctionProfiler.start();
         nb3ComputeViewMatrixFromYawPitchRoll(memAddress(cameraTargetPosition), distance, yaw, pitch, roll, upAxis, memAddress(viewMatrix));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     // --- [ b3ComputePositionFromViewMatrix ] ---
@@ -2554,7 +2714,9 @@ public class PhysicsClient {
             check(cameraTargetPosition, 3);
             check(cameraUp, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3ComputePositionFromViewMatrix(memAddress(viewMatrix), memAddress(cameraPosition), memAddress(cameraTargetPosition), memAddress(cameraUp));
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     // --- [ b3ComputeProjectionMatrix ] ---
@@ -2565,7 +2727,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(projectionMatrix, 16);
         }
+        long __start = FunctionProfiler.start();
         nb3ComputeProjectionMatrix(left, right, bottom, top, nearVal, farVal, memAddress(projectionMatrix));
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     // --- [ b3ComputeProjectionMatrixFOV ] ---
@@ -2576,7 +2740,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(projectionMatrix, 16);
         }
+        long __start = FunctionProfiler.start();
         nb3ComputeProjectionMatrixFOV(fov, aspect, nearVal, farVal, memAddress(projectionMatrix));
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     // --- [ b3InitRequestContactPointInformation ] ---
@@ -2588,7 +2754,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestContactPointInformation(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 117, __start, nb3InitRequestContactPointInformation(physClient));
     }
 
     // --- [ b3SetContactFilterBodyA ] ---
@@ -2599,7 +2766,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetContactFilterBodyA(commandHandle, bodyUniqueIdA);
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     // --- [ b3SetContactFilterBodyB ] ---
@@ -2610,7 +2779,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetContactFilterBodyB(commandHandle, bodyUniqueIdB);
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     // --- [ b3SetContactFilterLinkA ] ---
@@ -2621,7 +2792,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetContactFilterLinkA(commandHandle, linkIndexA);
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     // --- [ b3SetContactFilterLinkB ] ---
@@ -2632,7 +2805,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetContactFilterLinkB(commandHandle, linkIndexB);
+        FunctionProfiler.end(PROFILE_ID + 121, __start);
     }
 
     // --- [ b3GetContactPointInformation ] ---
@@ -2643,7 +2818,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetContactPointInformation(physClient, contactPointData.address());
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     // --- [ b3InitClosestDistanceQuery ] ---
@@ -2655,7 +2832,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitClosestDistanceQuery(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 123, __start, nb3InitClosestDistanceQuery(physClient));
     }
 
     // --- [ b3SetClosestDistanceFilterBodyA ] ---
@@ -2666,7 +2844,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterBodyA(commandHandle, bodyUniqueIdA);
+        FunctionProfiler.end(PROFILE_ID + 124, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterLinkA ] ---
@@ -2677,7 +2857,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterLinkA(commandHandle, linkIndexA);
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterBodyB ] ---
@@ -2688,7 +2870,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterBodyB(commandHandle, bodyUniqueIdB);
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterLinkB ] ---
@@ -2699,7 +2883,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterLinkB(commandHandle, linkIndexB);
+        FunctionProfiler.end(PROFILE_ID + 127, __start);
     }
 
     // --- [ b3SetClosestDistanceThreshold ] ---
@@ -2710,7 +2896,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceThreshold(commandHandle, distance);
+        FunctionProfiler.end(PROFILE_ID + 128, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterCollisionShapeA ] ---
@@ -2721,7 +2909,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterCollisionShapeA(commandHandle, collisionShapeA);
+        FunctionProfiler.end(PROFILE_ID + 129, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterCollisionShapeB ] ---
@@ -2732,7 +2922,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterCollisionShapeB(commandHandle, collisionShapeB);
+        FunctionProfiler.end(PROFILE_ID + 130, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterCollisionShapePositionA ] ---
@@ -2744,7 +2936,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(collisionShapePositionA, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterCollisionShapePositionA(commandHandle, memAddress(collisionShapePositionA));
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterCollisionShapePositionB ] ---
@@ -2756,7 +2950,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(collisionShapePositionB, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterCollisionShapePositionB(commandHandle, memAddress(collisionShapePositionB));
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterCollisionShapeOrientationA ] ---
@@ -2768,7 +2964,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(collisionShapeOrientationA, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterCollisionShapeOrientationA(commandHandle, memAddress(collisionShapeOrientationA));
+        FunctionProfiler.end(PROFILE_ID + 133, __start);
     }
 
     // --- [ b3SetClosestDistanceFilterCollisionShapeOrientationB ] ---
@@ -2780,7 +2978,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(collisionShapeOrientationB, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3SetClosestDistanceFilterCollisionShapeOrientationB(commandHandle, memAddress(collisionShapeOrientationB));
+        FunctionProfiler.end(PROFILE_ID + 134, __start);
     }
 
     // --- [ b3GetClosestPointInformation ] ---
@@ -2791,7 +2991,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetClosestPointInformation(physClient, contactPointInfo.address());
+        FunctionProfiler.end(PROFILE_ID + 135, __start);
     }
 
     // --- [ b3InitAABBOverlapQuery ] ---
@@ -2805,7 +3007,8 @@ public class PhysicsClient {
             check(aabbMin, 3);
             check(aabbMax, 3);
         }
-        return nb3InitAABBOverlapQuery(physClient, memAddress(aabbMin), memAddress(aabbMax));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 136, __start, nb3InitAABBOverlapQuery(physClient, memAddress(aabbMin), memAddress(aabbMax)));
     }
 
     // --- [ b3GetAABBOverlapResults ] ---
@@ -2816,7 +3019,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetAABBOverlapResults(physClient, data.address());
+        FunctionProfiler.end(PROFILE_ID + 137, __start);
     }
 
     // --- [ b3InitRequestVisualShapeInformation ] ---
@@ -2828,7 +3033,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestVisualShapeInformation(physClient, bodyUniqueIdA);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 138, __start, nb3InitRequestVisualShapeInformation(physClient, bodyUniqueIdA));
     }
 
     // --- [ b3GetVisualShapeInformation ] ---
@@ -2839,7 +3045,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetVisualShapeInformation(physClient, visualShapeInfo.address());
+        FunctionProfiler.end(PROFILE_ID + 139, __start);
     }
 
     // --- [ b3InitRequestCollisionShapeInformation ] ---
@@ -2851,7 +3059,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestCollisionShapeInformation(physClient, bodyUniqueId, linkIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 140, __start, nb3InitRequestCollisionShapeInformation(physClient, bodyUniqueId, linkIndex));
     }
 
     // --- [ b3GetCollisionShapeInformation ] ---
@@ -2862,7 +3071,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetCollisionShapeInformation(physClient, collisionShapeInfo.address());
+        FunctionProfiler.end(PROFILE_ID + 141, __start);
     }
 
     // --- [ b3InitLoadTexture ] ---
@@ -2875,7 +3086,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(filename);
         }
-        return nb3InitLoadTexture(physClient, memAddress(filename));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 142, __start, nb3InitLoadTexture(physClient, memAddress(filename)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -2887,7 +3099,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nb3InitLoadTexture(physClient, filenameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 142, __start, nb3InitLoadTexture(physClient, filenameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2901,7 +3114,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusTextureUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 143, __start, nb3GetStatusTextureUniqueId(statusHandle));
     }
 
     // --- [ b3CreateChangeTextureCommandInit ] ---
@@ -2914,7 +3128,8 @@ public class PhysicsClient {
             check(physClient);
             check(rgbPixels, 3 * width * height);
         }
-        return nb3CreateChangeTextureCommandInit(physClient, textureUniqueId, width, height, memAddress(rgbPixels));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 144, __start, nb3CreateChangeTextureCommandInit(physClient, textureUniqueId, width, height, memAddress(rgbPixels)));
     }
 
     // --- [ b3InitUpdateVisualShape ] ---
@@ -2926,7 +3141,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitUpdateVisualShape(physClient, bodyUniqueId, jointIndex, shapeIndex, textureUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 145, __start, nb3InitUpdateVisualShape(physClient, bodyUniqueId, jointIndex, shapeIndex, textureUniqueId));
     }
 
     // --- [ b3UpdateVisualShapeRGBAColor ] ---
@@ -2938,7 +3154,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(rgbaColor, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3UpdateVisualShapeRGBAColor(commandHandle, memAddress(rgbaColor));
+        FunctionProfiler.end(PROFILE_ID + 146, __start);
     }
 
     // --- [ b3UpdateVisualShapeSpecularColor ] ---
@@ -2950,7 +3168,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(specularColor, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3UpdateVisualShapeSpecularColor(commandHandle, memAddress(specularColor));
+        FunctionProfiler.end(PROFILE_ID + 147, __start);
     }
 
     // --- [ b3InitPhysicsParamCommand ] ---
@@ -2962,7 +3182,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitPhysicsParamCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 148, __start, nb3InitPhysicsParamCommand(physClient));
     }
 
     // --- [ b3InitPhysicsParamCommand2 ] ---
@@ -2974,7 +3195,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitPhysicsParamCommand2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 149, __start, nb3InitPhysicsParamCommand2(commandHandle));
     }
 
     // --- [ b3PhysicsParamSetGravity ] ---
@@ -2985,7 +3207,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetGravity(commandHandle, gravx, gravy, gravz);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 150, __start, nb3PhysicsParamSetGravity(commandHandle, gravx, gravy, gravz));
     }
 
     // --- [ b3PhysicsParamSetTimeStep ] ---
@@ -2996,7 +3219,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetTimeStep(commandHandle, timeStep);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 151, __start, nb3PhysicsParamSetTimeStep(commandHandle, timeStep));
     }
 
     // --- [ b3PhysicsParamSetDefaultContactERP ] ---
@@ -3007,7 +3231,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetDefaultContactERP(commandHandle, defaultContactERP);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 152, __start, nb3PhysicsParamSetDefaultContactERP(commandHandle, defaultContactERP));
     }
 
     // --- [ b3PhysicsParamSetDefaultNonContactERP ] ---
@@ -3018,7 +3243,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetDefaultNonContactERP(commandHandle, defaultNonContactERP);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 153, __start, nb3PhysicsParamSetDefaultNonContactERP(commandHandle, defaultNonContactERP));
     }
 
     // --- [ b3PhysicsParamSetDefaultFrictionERP ] ---
@@ -3029,7 +3255,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetDefaultFrictionERP(commandHandle, frictionERP);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 154, __start, nb3PhysicsParamSetDefaultFrictionERP(commandHandle, frictionERP));
     }
 
     // --- [ b3PhysicsParamSetDefaultGlobalCFM ] ---
@@ -3040,7 +3267,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetDefaultGlobalCFM(commandHandle, defaultGlobalCFM);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 155, __start, nb3PhysicsParamSetDefaultGlobalCFM(commandHandle, defaultGlobalCFM));
     }
 
     // --- [ b3PhysicsParamSetDefaultFrictionCFM ] ---
@@ -3051,7 +3279,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetDefaultFrictionCFM(commandHandle, frictionCFM);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 156, __start, nb3PhysicsParamSetDefaultFrictionCFM(commandHandle, frictionCFM));
     }
 
     // --- [ b3PhysicsParamSetNumSubSteps ] ---
@@ -3062,7 +3291,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetNumSubSteps(commandHandle, numSubSteps);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 157, __start, nb3PhysicsParamSetNumSubSteps(commandHandle, numSubSteps));
     }
 
     // --- [ b3PhysicsParamSetRealTimeSimulation ] ---
@@ -3073,7 +3303,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetRealTimeSimulation(commandHandle, enableRealTimeSimulation ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 158, __start, nb3PhysicsParamSetRealTimeSimulation(commandHandle, enableRealTimeSimulation ? 1 : 0));
     }
 
     // --- [ b3PhysicsParamSetNumSolverIterations ] ---
@@ -3084,7 +3315,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetNumSolverIterations(commandHandle, numSolverIterations);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 159, __start, nb3PhysicsParamSetNumSolverIterations(commandHandle, numSolverIterations));
     }
 
     // --- [ b3PhysicsParamSetCollisionFilterMode ] ---
@@ -3095,7 +3327,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetCollisionFilterMode(commandHandle, filterMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 160, __start, nb3PhysicsParamSetCollisionFilterMode(commandHandle, filterMode));
     }
 
     // --- [ b3PhysicsParamSetUseSplitImpulse ] ---
@@ -3106,7 +3339,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetUseSplitImpulse(commandHandle, useSplitImpulse);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 161, __start, nb3PhysicsParamSetUseSplitImpulse(commandHandle, useSplitImpulse));
     }
 
     // --- [ b3PhysicsParamSetSplitImpulsePenetrationThreshold ] ---
@@ -3117,7 +3351,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetSplitImpulsePenetrationThreshold(commandHandle, splitImpulsePenetrationThreshold);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 162, __start, nb3PhysicsParamSetSplitImpulsePenetrationThreshold(commandHandle, splitImpulsePenetrationThreshold));
     }
 
     // --- [ b3PhysicsParamSetContactBreakingThreshold ] ---
@@ -3128,7 +3363,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetContactBreakingThreshold(commandHandle, contactBreakingThreshold);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 163, __start, nb3PhysicsParamSetContactBreakingThreshold(commandHandle, contactBreakingThreshold));
     }
 
     // --- [ b3PhysicsParamSetMaxNumCommandsPer1ms ] ---
@@ -3139,7 +3375,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetMaxNumCommandsPer1ms(commandHandle, maxNumCmdPer1ms);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 164, __start, nb3PhysicsParamSetMaxNumCommandsPer1ms(commandHandle, maxNumCmdPer1ms));
     }
 
     // --- [ b3PhysicsParamSetEnableFileCaching ] ---
@@ -3150,7 +3387,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetEnableFileCaching(commandHandle, enableFileCaching ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 165, __start, nb3PhysicsParamSetEnableFileCaching(commandHandle, enableFileCaching ? 1 : 0));
     }
 
     // --- [ b3PhysicsParamSetRestitutionVelocityThreshold ] ---
@@ -3161,7 +3399,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetRestitutionVelocityThreshold(commandHandle, restitutionVelocityThreshold);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 166, __start, nb3PhysicsParamSetRestitutionVelocityThreshold(commandHandle, restitutionVelocityThreshold));
     }
 
     // --- [ b3PhysicsParamSetEnableConeFriction ] ---
@@ -3172,7 +3411,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetEnableConeFriction(commandHandle, enableConeFriction ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 167, __start, nb3PhysicsParamSetEnableConeFriction(commandHandle, enableConeFriction ? 1 : 0));
     }
 
     // --- [ b3PhysicsParameterSetDeterministicOverlappingPairs ] ---
@@ -3183,7 +3423,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParameterSetDeterministicOverlappingPairs(commandHandle, deterministicOverlappingPairs);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 168, __start, nb3PhysicsParameterSetDeterministicOverlappingPairs(commandHandle, deterministicOverlappingPairs));
     }
 
     // --- [ b3PhysicsParameterSetAllowedCcdPenetration ] ---
@@ -3194,7 +3435,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParameterSetAllowedCcdPenetration(commandHandle, allowedCcdPenetration);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 169, __start, nb3PhysicsParameterSetAllowedCcdPenetration(commandHandle, allowedCcdPenetration));
     }
 
     // --- [ b3PhysicsParameterSetJointFeedbackMode ] ---
@@ -3205,7 +3447,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParameterSetJointFeedbackMode(commandHandle, jointFeedbackMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 170, __start, nb3PhysicsParameterSetJointFeedbackMode(commandHandle, jointFeedbackMode));
     }
 
     // --- [ b3PhysicsParamSetSolverResidualThreshold ] ---
@@ -3216,7 +3459,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetSolverResidualThreshold(commandHandle, solverResidualThreshold);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 171, __start, nb3PhysicsParamSetSolverResidualThreshold(commandHandle, solverResidualThreshold));
     }
 
     // --- [ b3PhysicsParamSetContactSlop ] ---
@@ -3227,7 +3471,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetContactSlop(commandHandle, contactSlop);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 172, __start, nb3PhysicsParamSetContactSlop(commandHandle, contactSlop));
     }
 
     // --- [ b3PhysicsParameterSetEnableSAT ] ---
@@ -3238,7 +3483,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParameterSetEnableSAT(commandHandle, enableSAT ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 173, __start, nb3PhysicsParameterSetEnableSAT(commandHandle, enableSAT ? 1 : 0));
     }
 
     // --- [ b3PhysicsParameterSetConstraintSolverType ] ---
@@ -3249,7 +3495,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParameterSetConstraintSolverType(commandHandle, raintSolverType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 174, __start, nb3PhysicsParameterSetConstraintSolverType(commandHandle, raintSolverType));
     }
 
     // --- [ b3PhysicsParameterSetMinimumSolverIslandSize ] ---
@@ -3260,7 +3507,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParameterSetMinimumSolverIslandSize(commandHandle, minimumSolverIslandSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 175, __start, nb3PhysicsParameterSetMinimumSolverIslandSize(commandHandle, minimumSolverIslandSize));
     }
 
     // --- [ b3InitRequestPhysicsParamCommand ] ---
@@ -3272,7 +3520,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRequestPhysicsParamCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 176, __start, nb3InitRequestPhysicsParamCommand(physClient));
     }
 
     // --- [ b3GetStatusPhysicsSimulationParameters ] ---
@@ -3283,7 +3532,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusPhysicsSimulationParameters(statusHandle, params.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 177, __start, nb3GetStatusPhysicsSimulationParameters(statusHandle, params.address()));
     }
 
     // --- [ b3PhysicsParamSetInternalSimFlags ] ---
@@ -3294,7 +3544,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3PhysicsParamSetInternalSimFlags(commandHandle, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 178, __start, nb3PhysicsParamSetInternalSimFlags(commandHandle, flags));
     }
 
     // --- [ b3InitStepSimulationCommand ] ---
@@ -3306,7 +3557,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitStepSimulationCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 179, __start, nb3InitStepSimulationCommand(physClient));
     }
 
     // --- [ b3InitStepSimulationCommand2 ] ---
@@ -3318,7 +3570,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitStepSimulationCommand2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 180, __start, nb3InitStepSimulationCommand2(commandHandle));
     }
 
     // --- [ b3InitResetSimulationCommand ] ---
@@ -3330,7 +3583,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitResetSimulationCommand(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 181, __start, nb3InitResetSimulationCommand(physClient));
     }
 
     // --- [ b3InitResetSimulationCommand2 ] ---
@@ -3342,7 +3596,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3InitResetSimulationCommand2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 182, __start, nb3InitResetSimulationCommand2(commandHandle));
     }
 
     // --- [ b3LoadUrdfCommandInit ] ---
@@ -3355,7 +3610,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(urdfFileName);
         }
-        return nb3LoadUrdfCommandInit(physClient, memAddress(urdfFileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 183, __start, nb3LoadUrdfCommandInit(physClient, memAddress(urdfFileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3367,7 +3623,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(urdfFileName, true);
             long urdfFileNameEncoded = stack.getPointerAddress();
-            return nb3LoadUrdfCommandInit(physClient, urdfFileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 183, __start, nb3LoadUrdfCommandInit(physClient, urdfFileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3383,7 +3640,8 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(urdfFileName);
         }
-        return nb3LoadUrdfCommandInit2(commandHandle, memAddress(urdfFileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 184, __start, nb3LoadUrdfCommandInit2(commandHandle, memAddress(urdfFileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3395,7 +3653,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(urdfFileName, true);
             long urdfFileNameEncoded = stack.getPointerAddress();
-            return nb3LoadUrdfCommandInit2(commandHandle, urdfFileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 184, __start, nb3LoadUrdfCommandInit2(commandHandle, urdfFileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3409,7 +3668,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadUrdfCommandSetStartPosition(commandHandle, startPosX, startPosY, startPosZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 185, __start, nb3LoadUrdfCommandSetStartPosition(commandHandle, startPosX, startPosY, startPosZ));
     }
 
     // --- [ b3LoadUrdfCommandSetStartOrientation ] ---
@@ -3420,7 +3680,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadUrdfCommandSetStartOrientation(commandHandle, startOrnX, startOrnY, startOrnZ, startOrnW);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 186, __start, nb3LoadUrdfCommandSetStartOrientation(commandHandle, startOrnX, startOrnY, startOrnZ, startOrnW));
     }
 
     // --- [ b3LoadUrdfCommandSetUseMultiBody ] ---
@@ -3431,7 +3692,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadUrdfCommandSetUseMultiBody(commandHandle, useMultiBody);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 187, __start, nb3LoadUrdfCommandSetUseMultiBody(commandHandle, useMultiBody));
     }
 
     // --- [ b3LoadUrdfCommandSetUseFixedBase ] ---
@@ -3442,7 +3704,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadUrdfCommandSetUseFixedBase(commandHandle, useFixedBase);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 188, __start, nb3LoadUrdfCommandSetUseFixedBase(commandHandle, useFixedBase));
     }
 
     // --- [ b3LoadUrdfCommandSetFlags ] ---
@@ -3453,7 +3716,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadUrdfCommandSetFlags(commandHandle, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 189, __start, nb3LoadUrdfCommandSetFlags(commandHandle, flags));
     }
 
     // --- [ b3LoadUrdfCommandSetGlobalScaling ] ---
@@ -3464,7 +3728,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadUrdfCommandSetGlobalScaling(commandHandle, globalScaling);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 190, __start, nb3LoadUrdfCommandSetGlobalScaling(commandHandle, globalScaling));
     }
 
     // --- [ b3SaveStateCommandInit ] ---
@@ -3476,7 +3741,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3SaveStateCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 191, __start, nb3SaveStateCommandInit(physClient));
     }
 
     // --- [ b3GetStatusGetStateId ] ---
@@ -3487,7 +3753,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusGetStateId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 192, __start, nb3GetStatusGetStateId(statusHandle));
     }
 
     // --- [ b3LoadStateCommandInit ] ---
@@ -3499,7 +3766,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3LoadStateCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 193, __start, nb3LoadStateCommandInit(physClient));
     }
 
     // --- [ b3LoadStateSetStateId ] ---
@@ -3510,7 +3778,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadStateSetStateId(commandHandle, stateId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 194, __start, nb3LoadStateSetStateId(commandHandle, stateId));
     }
 
     // --- [ b3LoadStateSetFileName ] ---
@@ -3522,7 +3791,8 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(fileName);
         }
-        return nb3LoadStateSetFileName(commandHandle, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 195, __start, nb3LoadStateSetFileName(commandHandle, memAddress(fileName)));
     }
 
     public static int b3LoadStateSetFileName(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, @NativeType("char const *") CharSequence fileName) {
@@ -3533,7 +3803,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3LoadStateSetFileName(commandHandle, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 195, __start, nb3LoadStateSetFileName(commandHandle, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3549,7 +3820,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(fileName);
         }
-        return nb3LoadBulletCommandInit(physClient, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 196, __start, nb3LoadBulletCommandInit(physClient, memAddress(fileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3561,7 +3833,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3LoadBulletCommandInit(physClient, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 196, __start, nb3LoadBulletCommandInit(physClient, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3577,7 +3850,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(fileName);
         }
-        return nb3SaveBulletCommandInit(physClient, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 197, __start, nb3SaveBulletCommandInit(physClient, memAddress(fileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3589,7 +3863,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3SaveBulletCommandInit(physClient, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 197, __start, nb3SaveBulletCommandInit(physClient, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3605,7 +3880,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(fileName);
         }
-        return nb3LoadMJCFCommandInit(physClient, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 198, __start, nb3LoadMJCFCommandInit(physClient, memAddress(fileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3617,7 +3893,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3LoadMJCFCommandInit(physClient, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 198, __start, nb3LoadMJCFCommandInit(physClient, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3633,7 +3910,8 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(fileName);
         }
-        return nb3LoadMJCFCommandInit2(commandHandle, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 199, __start, nb3LoadMJCFCommandInit2(commandHandle, memAddress(fileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3645,7 +3923,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3LoadMJCFCommandInit2(commandHandle, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 199, __start, nb3LoadMJCFCommandInit2(commandHandle, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3659,7 +3938,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3LoadMJCFCommandSetFlags(commandHandle, flags);
+        FunctionProfiler.end(PROFILE_ID + 200, __start);
     }
 
     // --- [ b3CalculateInverseDynamicsCommandInit ] ---
@@ -3671,7 +3952,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CalculateInverseDynamicsCommandInit(physClient, bodyUniqueId, memAddress(jointPositionsQ), memAddress(jointVelocitiesQdot), memAddress(jointAccelerations));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 201, __start, nb3CalculateInverseDynamicsCommandInit(physClient, bodyUniqueId, memAddress(jointPositionsQ), memAddress(jointVelocitiesQdot), memAddress(jointAccelerations)));
     }
 
     // --- [ b3GetStatusInverseDynamicsJointForces ] ---
@@ -3684,7 +3966,8 @@ public class PhysicsClient {
             checkSafe(bodyUniqueId, 1);
             checkSafe(dofCount, 1);
         }
-        return nb3GetStatusInverseDynamicsJointForces(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(dofCount), memAddressSafe(jointForces));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 202, __start, nb3GetStatusInverseDynamicsJointForces(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(dofCount), memAddressSafe(jointForces)));
     }
 
     // --- [ b3CalculateJacobianCommandInit ] ---
@@ -3697,7 +3980,8 @@ public class PhysicsClient {
             check(physClient);
             check(localPosition, 3);
         }
-        return nb3CalculateJacobianCommandInit(physClient, bodyUniqueId, linkIndex, memAddress(localPosition), memAddress(jointPositionsQ), memAddress(jointVelocitiesQdot), memAddress(jointAccelerations));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 203, __start, nb3CalculateJacobianCommandInit(physClient, bodyUniqueId, linkIndex, memAddress(localPosition), memAddress(jointPositionsQ), memAddress(jointVelocitiesQdot), memAddress(jointAccelerations)));
     }
 
     // --- [ b3GetStatusJacobian ] ---
@@ -3709,7 +3993,8 @@ public class PhysicsClient {
             check(statusHandle);
             checkSafe(dofCount, 1);
         }
-        return nb3GetStatusJacobian(statusHandle, memAddressSafe(dofCount), memAddress(linearJacobian), memAddress(angularJacobian));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 204, __start, nb3GetStatusJacobian(statusHandle, memAddressSafe(dofCount), memAddress(linearJacobian), memAddress(angularJacobian)));
     }
 
     // --- [ b3CalculateMassMatrixCommandInit ] ---
@@ -3721,7 +4006,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CalculateMassMatrixCommandInit(physClient, bodyUniqueId, memAddress(jointPositionsQ));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 205, __start, nb3CalculateMassMatrixCommandInit(physClient, bodyUniqueId, memAddress(jointPositionsQ)));
     }
 
     // --- [ b3GetStatusMassMatrix ] ---
@@ -3734,7 +4020,8 @@ public class PhysicsClient {
             check(statusHandle);
             checkSafe(dofCount, 1);
         }
-        return nb3GetStatusMassMatrix(physClient, statusHandle, memAddressSafe(dofCount), memAddressSafe(massMatrix));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 206, __start, nb3GetStatusMassMatrix(physClient, statusHandle, memAddressSafe(dofCount), memAddressSafe(massMatrix)));
     }
 
     // --- [ b3CalculateInverseKinematicsCommandInit ] ---
@@ -3746,7 +4033,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CalculateInverseKinematicsCommandInit(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 207, __start, nb3CalculateInverseKinematicsCommandInit(physClient, bodyUniqueId));
     }
 
     // --- [ b3CalculateInverseKinematicsAddTargetPurePosition ] ---
@@ -3758,7 +4046,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(targetPosition, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsAddTargetPurePosition(commandHandle, endEffectorLinkIndex, memAddress(targetPosition));
+        FunctionProfiler.end(PROFILE_ID + 208, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsAddTargetPositionWithOrientation ] ---
@@ -3771,7 +4061,9 @@ public class PhysicsClient {
             check(targetPosition, 3);
             check(targetOrientation, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsAddTargetPositionWithOrientation(commandHandle, endEffectorLinkIndex, memAddress(targetPosition), memAddress(targetOrientation));
+        FunctionProfiler.end(PROFILE_ID + 209, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsPosWithNullSpaceVel ] ---
@@ -3786,7 +4078,9 @@ public class PhysicsClient {
             check(restPose, lowerLimit.remaining());
             check(targetPosition, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsPosWithNullSpaceVel(commandHandle, lowerLimit.remaining(), endEffectorLinkIndex, memAddress(targetPosition), memAddress(lowerLimit), memAddress(upperLimit), memAddress(jointRange), memAddress(restPose));
+        FunctionProfiler.end(PROFILE_ID + 210, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsPosOrnWithNullSpaceVel ] ---
@@ -3802,7 +4096,9 @@ public class PhysicsClient {
             check(targetPosition, 3);
             check(targetOrientation, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsPosOrnWithNullSpaceVel(commandHandle, lowerLimit.remaining(), endEffectorLinkIndex, memAddress(targetPosition), memAddress(targetOrientation), memAddress(lowerLimit), memAddress(upperLimit), memAddress(jointRange), memAddress(restPose));
+        FunctionProfiler.end(PROFILE_ID + 211, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsSetJointDamping ] ---
@@ -3813,7 +4109,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsSetJointDamping(commandHandle, jointDampingCoeff.remaining(), memAddress(jointDampingCoeff));
+        FunctionProfiler.end(PROFILE_ID + 212, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsSelectSolver ] ---
@@ -3824,7 +4122,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsSelectSolver(commandHandle, solver);
+        FunctionProfiler.end(PROFILE_ID + 213, __start);
     }
 
     // --- [ b3GetStatusInverseKinematicsJointPositions ] ---
@@ -3837,7 +4137,8 @@ public class PhysicsClient {
             checkSafe(bodyUniqueId, 1);
             checkSafe(dofCount, 1);
         }
-        return nb3GetStatusInverseKinematicsJointPositions(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(dofCount), memAddressSafe(jointPositions));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 214, __start, nb3GetStatusInverseKinematicsJointPositions(statusHandle, memAddressSafe(bodyUniqueId), memAddressSafe(dofCount), memAddressSafe(jointPositions)));
     }
 
     // --- [ b3CalculateInverseKinematicsSetCurrentPositions ] ---
@@ -3848,7 +4149,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsSetCurrentPositions(commandHandle, currentJointPositions.remaining(), memAddress(currentJointPositions));
+        FunctionProfiler.end(PROFILE_ID + 215, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsSetMaxNumIterations ] ---
@@ -3859,7 +4162,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsSetMaxNumIterations(commandHandle, maxNumIterations);
+        FunctionProfiler.end(PROFILE_ID + 216, __start);
     }
 
     // --- [ b3CalculateInverseKinematicsSetResidualThreshold ] ---
@@ -3870,7 +4175,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CalculateInverseKinematicsSetResidualThreshold(commandHandle, residualThreshold);
+        FunctionProfiler.end(PROFILE_ID + 217, __start);
     }
 
     // --- [ b3CollisionFilterCommandInit ] ---
@@ -3882,7 +4189,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CollisionFilterCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 218, __start, nb3CollisionFilterCommandInit(physClient));
     }
 
     // --- [ b3SetCollisionFilterPair ] ---
@@ -3893,7 +4201,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetCollisionFilterPair(commandHandle, bodyUniqueIdA, bodyUniqueIdB, linkIndexA, linkIndexB, enableCollision ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 219, __start);
     }
 
     // --- [ b3SetCollisionFilterGroupMask ] ---
@@ -3904,7 +4214,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetCollisionFilterGroupMask(commandHandle, bodyUniqueIdA, linkIndexA, collisionFilterGroup, collisionFilterMask);
+        FunctionProfiler.end(PROFILE_ID + 220, __start);
     }
 
     // --- [ b3LoadSdfCommandInit ] ---
@@ -3917,7 +4229,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(sdfFileName);
         }
-        return nb3LoadSdfCommandInit(physClient, memAddress(sdfFileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 221, __start, nb3LoadSdfCommandInit(physClient, memAddress(sdfFileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3929,7 +4242,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(sdfFileName, true);
             long sdfFileNameEncoded = stack.getPointerAddress();
-            return nb3LoadSdfCommandInit(physClient, sdfFileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 221, __start, nb3LoadSdfCommandInit(physClient, sdfFileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3945,7 +4259,8 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(sdfFileName);
         }
-        return nb3LoadSdfCommandInit2(commandHandle, memAddress(sdfFileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 222, __start, nb3LoadSdfCommandInit2(commandHandle, memAddress(sdfFileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -3957,7 +4272,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(sdfFileName, true);
             long sdfFileNameEncoded = stack.getPointerAddress();
-            return nb3LoadSdfCommandInit2(commandHandle, sdfFileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 222, __start, nb3LoadSdfCommandInit2(commandHandle, sdfFileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3971,7 +4287,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadSdfCommandSetUseMultiBody(commandHandle, useMultiBody);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 223, __start, nb3LoadSdfCommandSetUseMultiBody(commandHandle, useMultiBody));
     }
 
     // --- [ b3LoadSdfCommandSetUseGlobalScaling ] ---
@@ -3982,7 +4299,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadSdfCommandSetUseGlobalScaling(commandHandle, globalScaling);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 224, __start, nb3LoadSdfCommandSetUseGlobalScaling(commandHandle, globalScaling));
     }
 
     // --- [ b3SaveWorldCommandInit ] ---
@@ -3995,7 +4313,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(sdfFileName);
         }
-        return nb3SaveWorldCommandInit(physClient, memAddress(sdfFileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 225, __start, nb3SaveWorldCommandInit(physClient, memAddress(sdfFileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -4007,7 +4326,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(sdfFileName, true);
             long sdfFileNameEncoded = stack.getPointerAddress();
-            return nb3SaveWorldCommandInit(physClient, sdfFileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 225, __start, nb3SaveWorldCommandInit(physClient, sdfFileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4022,7 +4342,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3JointControlCommandInit(physClient, controlMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 226, __start, nb3JointControlCommandInit(physClient, controlMode));
     }
 
     // --- [ b3JointControlCommandInit2 ] ---
@@ -4034,7 +4355,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3JointControlCommandInit2(physClient, bodyUniqueId, controlMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 227, __start, nb3JointControlCommandInit2(physClient, bodyUniqueId, controlMode));
     }
 
     // --- [ b3JointControlCommandInit2Internal ] ---
@@ -4046,7 +4368,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlCommandInit2Internal(commandHandle, bodyUniqueId, controlMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 228, __start, nb3JointControlCommandInit2Internal(commandHandle, bodyUniqueId, controlMode));
     }
 
     // --- [ b3JointControlSetDesiredPosition ] ---
@@ -4057,7 +4380,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetDesiredPosition(commandHandle, qIndex, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 229, __start, nb3JointControlSetDesiredPosition(commandHandle, qIndex, value));
     }
 
     // --- [ b3JointControlSetKp ] ---
@@ -4068,7 +4392,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetKp(commandHandle, dofIndex, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 230, __start, nb3JointControlSetKp(commandHandle, dofIndex, value));
     }
 
     // --- [ b3JointControlSetKd ] ---
@@ -4079,7 +4404,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetKd(commandHandle, dofIndex, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 231, __start, nb3JointControlSetKd(commandHandle, dofIndex, value));
     }
 
     // --- [ b3JointControlSetMaximumVelocity ] ---
@@ -4090,7 +4416,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetMaximumVelocity(commandHandle, dofIndex, maximumVelocity);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 232, __start, nb3JointControlSetMaximumVelocity(commandHandle, dofIndex, maximumVelocity));
     }
 
     // --- [ b3JointControlSetDesiredVelocity ] ---
@@ -4101,7 +4428,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetDesiredVelocity(commandHandle, dofIndex, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 233, __start, nb3JointControlSetDesiredVelocity(commandHandle, dofIndex, value));
     }
 
     // --- [ b3JointControlSetMaximumForce ] ---
@@ -4112,7 +4440,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetMaximumForce(commandHandle, dofIndex, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 234, __start, nb3JointControlSetMaximumForce(commandHandle, dofIndex, value));
     }
 
     // --- [ b3JointControlSetDesiredForceTorque ] ---
@@ -4123,7 +4452,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3JointControlSetDesiredForceTorque(commandHandle, dofIndex, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 235, __start, nb3JointControlSetDesiredForceTorque(commandHandle, dofIndex, value));
     }
 
     // --- [ b3CreateCollisionShapeCommandInit ] ---
@@ -4135,7 +4465,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateCollisionShapeCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 236, __start, nb3CreateCollisionShapeCommandInit(physClient));
     }
 
     // --- [ b3CreateCollisionShapeAddSphere ] ---
@@ -4146,7 +4477,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateCollisionShapeAddSphere(commandHandle, radius);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 237, __start, nb3CreateCollisionShapeAddSphere(commandHandle, radius));
     }
 
     // --- [ b3CreateCollisionShapeAddBox ] ---
@@ -4158,7 +4490,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(halfExtents, 3);
         }
-        return nb3CreateCollisionShapeAddBox(commandHandle, memAddress(halfExtents));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 238, __start, nb3CreateCollisionShapeAddBox(commandHandle, memAddress(halfExtents)));
     }
 
     // --- [ b3CreateCollisionShapeAddCapsule ] ---
@@ -4169,7 +4502,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateCollisionShapeAddCapsule(commandHandle, radius, height);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 239, __start, nb3CreateCollisionShapeAddCapsule(commandHandle, radius, height));
     }
 
     // --- [ b3CreateCollisionShapeAddCylinder ] ---
@@ -4180,7 +4514,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateCollisionShapeAddCylinder(commandHandle, radius, height);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 240, __start, nb3CreateCollisionShapeAddCylinder(commandHandle, radius, height));
     }
 
     // --- [ b3CreateCollisionShapeAddPlane ] ---
@@ -4192,7 +4527,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(planeNormal, 3);
         }
-        return nb3CreateCollisionShapeAddPlane(commandHandle, memAddress(planeNormal), planeConstant);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 241, __start, nb3CreateCollisionShapeAddPlane(commandHandle, memAddress(planeNormal), planeConstant));
     }
 
     // --- [ b3CreateCollisionShapeAddMesh ] ---
@@ -4205,7 +4541,8 @@ public class PhysicsClient {
             checkNT1(fileName);
             check(meshScale, 3);
         }
-        return nb3CreateCollisionShapeAddMesh(commandHandle, memAddress(fileName), memAddress(meshScale));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 242, __start, nb3CreateCollisionShapeAddMesh(commandHandle, memAddress(fileName), memAddress(meshScale)));
     }
 
     public static int b3CreateCollisionShapeAddMesh(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, @NativeType("char const *") CharSequence fileName, @NativeType("double const *") DoubleBuffer meshScale) {
@@ -4217,7 +4554,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3CreateCollisionShapeAddMesh(commandHandle, fileNameEncoded, memAddress(meshScale));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 242, __start, nb3CreateCollisionShapeAddMesh(commandHandle, fileNameEncoded, memAddress(meshScale)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4231,7 +4569,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateCollisionSetFlag(commandHandle, shapeIndex, flags);
+        FunctionProfiler.end(PROFILE_ID + 243, __start);
     }
 
     // --- [ b3CreateCollisionShapeSetChildTransform ] ---
@@ -4244,7 +4584,9 @@ public class PhysicsClient {
             check(childPosition, 3);
             check(childOrientation, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateCollisionShapeSetChildTransform(commandHandle, shapeIndex, memAddress(childPosition), memAddress(childOrientation));
+        FunctionProfiler.end(PROFILE_ID + 244, __start);
     }
 
     // --- [ b3GetStatusCollisionShapeUniqueId ] ---
@@ -4255,7 +4597,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusCollisionShapeUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 245, __start, nb3GetStatusCollisionShapeUniqueId(statusHandle));
     }
 
     // --- [ b3InitRemoveCollisionShapeCommand ] ---
@@ -4267,7 +4610,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3InitRemoveCollisionShapeCommand(physClient, collisionShapeId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 246, __start, nb3InitRemoveCollisionShapeCommand(physClient, collisionShapeId));
     }
 
     // --- [ b3CreateVisualShapeCommandInit ] ---
@@ -4279,7 +4623,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateVisualShapeCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 247, __start, nb3CreateVisualShapeCommandInit(physClient));
     }
 
     // --- [ b3CreateVisualShapeAddSphere ] ---
@@ -4290,7 +4635,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateVisualShapeAddSphere(commandHandle, radius);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 248, __start, nb3CreateVisualShapeAddSphere(commandHandle, radius));
     }
 
     // --- [ b3CreateVisualShapeAddBox ] ---
@@ -4302,7 +4648,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(halfExtents, 3);
         }
-        return nb3CreateVisualShapeAddBox(commandHandle, memAddress(halfExtents));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 249, __start, nb3CreateVisualShapeAddBox(commandHandle, memAddress(halfExtents)));
     }
 
     // --- [ b3CreateVisualShapeAddCapsule ] ---
@@ -4313,7 +4660,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateVisualShapeAddCapsule(commandHandle, radius, height);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 250, __start, nb3CreateVisualShapeAddCapsule(commandHandle, radius, height));
     }
 
     // --- [ b3CreateVisualShapeAddCylinder ] ---
@@ -4324,7 +4672,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateVisualShapeAddCylinder(commandHandle, radius, height);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 251, __start, nb3CreateVisualShapeAddCylinder(commandHandle, radius, height));
     }
 
     // --- [ b3CreateVisualShapeAddPlane ] ---
@@ -4336,7 +4685,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(planeNormal, 3);
         }
-        return nb3CreateVisualShapeAddPlane(commandHandle, memAddress(planeNormal), planeConstant);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 252, __start, nb3CreateVisualShapeAddPlane(commandHandle, memAddress(planeNormal), planeConstant));
     }
 
     // --- [ b3CreateVisualShapeAddMesh ] ---
@@ -4349,7 +4699,8 @@ public class PhysicsClient {
             checkNT1(fileName);
             check(meshScale, 3);
         }
-        return nb3CreateVisualShapeAddMesh(commandHandle, memAddress(fileName), memAddress(meshScale));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 253, __start, nb3CreateVisualShapeAddMesh(commandHandle, memAddress(fileName), memAddress(meshScale)));
     }
 
     public static int b3CreateVisualShapeAddMesh(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, @NativeType("char const *") CharSequence fileName, @NativeType("double const *") DoubleBuffer meshScale) {
@@ -4361,7 +4712,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3CreateVisualShapeAddMesh(commandHandle, fileNameEncoded, memAddress(meshScale));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 253, __start, nb3CreateVisualShapeAddMesh(commandHandle, fileNameEncoded, memAddress(meshScale)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4375,7 +4727,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateVisualSetFlag(commandHandle, shapeIndex, flags);
+        FunctionProfiler.end(PROFILE_ID + 254, __start);
     }
 
     // --- [ b3CreateVisualShapeSetChildTransform ] ---
@@ -4388,7 +4742,9 @@ public class PhysicsClient {
             check(childPosition, 3);
             check(childOrientation, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateVisualShapeSetChildTransform(commandHandle, shapeIndex, memAddress(childPosition), memAddress(childOrientation));
+        FunctionProfiler.end(PROFILE_ID + 255, __start);
     }
 
     // --- [ b3CreateVisualShapeSetSpecularColor ] ---
@@ -4400,7 +4756,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(specularColor, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateVisualShapeSetSpecularColor(commandHandle, shapeIndex, memAddress(specularColor));
+        FunctionProfiler.end(PROFILE_ID + 256, __start);
     }
 
     // --- [ b3CreateVisualShapeSetRGBAColor ] ---
@@ -4412,7 +4770,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(rgbaColor, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateVisualShapeSetRGBAColor(commandHandle, shapeIndex, memAddress(rgbaColor));
+        FunctionProfiler.end(PROFILE_ID + 257, __start);
     }
 
     // --- [ b3GetStatusVisualShapeUniqueId ] ---
@@ -4423,7 +4783,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusVisualShapeUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 258, __start, nb3GetStatusVisualShapeUniqueId(statusHandle));
     }
 
     // --- [ b3CreateMultiBodyCommandInit ] ---
@@ -4435,7 +4796,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateMultiBodyCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 259, __start, nb3CreateMultiBodyCommandInit(physClient));
     }
 
     // --- [ b3CreateMultiBodyBase ] ---
@@ -4450,7 +4812,8 @@ public class PhysicsClient {
             check(baseInertialFramePosition, 3);
             check(baseInertialFrameOrientation, 4);
         }
-        return nb3CreateMultiBodyBase(commandHandle, mass, collisionShapeUnique, visualShapeUniqueId, memAddress(basePosition), memAddress(baseOrientation), memAddress(baseInertialFramePosition), memAddress(baseInertialFrameOrientation));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 260, __start, nb3CreateMultiBodyBase(commandHandle, mass, collisionShapeUnique, visualShapeUniqueId, memAddress(basePosition), memAddress(baseOrientation), memAddress(baseInertialFramePosition), memAddress(baseInertialFrameOrientation)));
     }
 
     // --- [ b3CreateMultiBodyLink ] ---
@@ -4466,7 +4829,8 @@ public class PhysicsClient {
             check(linkInertialFrameOrientation, 4);
             check(linkJointAxis, 3);
         }
-        return nb3CreateMultiBodyLink(commandHandle, linkMass, linkCollisionShapeIndex, linkVisualShapeIndex, memAddress(linkPosition), memAddress(linkOrientation), memAddress(linkInertialFramePosition), memAddress(linkInertialFrameOrientation), linkParentIndex, linkJointType, memAddress(linkJointAxis));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 261, __start, nb3CreateMultiBodyLink(commandHandle, linkMass, linkCollisionShapeIndex, linkVisualShapeIndex, memAddress(linkPosition), memAddress(linkOrientation), memAddress(linkInertialFramePosition), memAddress(linkInertialFrameOrientation), linkParentIndex, linkJointType, memAddress(linkJointAxis)));
     }
 
     // --- [ b3CreateMultiBodyUseMaximalCoordinates ] ---
@@ -4477,7 +4841,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateMultiBodyUseMaximalCoordinates(commandHandle);
+        FunctionProfiler.end(PROFILE_ID + 262, __start);
     }
 
     // --- [ b3CreateMultiBodySetFlags ] ---
@@ -4488,7 +4854,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3CreateMultiBodySetFlags(commandHandle, flags);
+        FunctionProfiler.end(PROFILE_ID + 263, __start);
     }
 
     // --- [ b3CreateBoxShapeCommandInit ] ---
@@ -4500,7 +4868,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateBoxShapeCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 264, __start, nb3CreateBoxShapeCommandInit(physClient));
     }
 
     // --- [ b3CreateBoxCommandSetStartPosition ] ---
@@ -4511,7 +4880,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateBoxCommandSetStartPosition(commandHandle, startPosX, startPosY, startPosZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 265, __start, nb3CreateBoxCommandSetStartPosition(commandHandle, startPosX, startPosY, startPosZ));
     }
 
     // --- [ b3CreateBoxCommandSetStartOrientation ] ---
@@ -4522,7 +4892,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateBoxCommandSetStartOrientation(commandHandle, startOrnX, startOrnY, startOrnZ, startOrnW);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 266, __start, nb3CreateBoxCommandSetStartOrientation(commandHandle, startOrnX, startOrnY, startOrnZ, startOrnW));
     }
 
     // --- [ b3CreateBoxCommandSetHalfExtents ] ---
@@ -4533,7 +4904,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateBoxCommandSetHalfExtents(commandHandle, halfExtentsX, halfExtentsY, halfExtentsZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 267, __start, nb3CreateBoxCommandSetHalfExtents(commandHandle, halfExtentsX, halfExtentsY, halfExtentsZ));
     }
 
     // --- [ b3CreateBoxCommandSetMass ] ---
@@ -4544,7 +4916,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateBoxCommandSetMass(commandHandle, mass);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 268, __start, nb3CreateBoxCommandSetMass(commandHandle, mass));
     }
 
     // --- [ b3CreateBoxCommandSetCollisionShapeType ] ---
@@ -4555,7 +4928,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateBoxCommandSetCollisionShapeType(commandHandle, collisionShapeType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 269, __start, nb3CreateBoxCommandSetCollisionShapeType(commandHandle, collisionShapeType));
     }
 
     // --- [ b3CreateBoxCommandSetColorRGBA ] ---
@@ -4566,7 +4940,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateBoxCommandSetColorRGBA(commandHandle, red, green, blue, alpha);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 270, __start, nb3CreateBoxCommandSetColorRGBA(commandHandle, red, green, blue, alpha));
     }
 
     // --- [ b3CreatePoseCommandInit ] ---
@@ -4578,7 +4953,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreatePoseCommandInit(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 271, __start, nb3CreatePoseCommandInit(physClient, bodyUniqueId));
     }
 
     // --- [ b3CreatePoseCommandInit2 ] ---
@@ -4590,7 +4966,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreatePoseCommandInit2(commandHandle, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 272, __start, nb3CreatePoseCommandInit2(commandHandle, bodyUniqueId));
     }
 
     // --- [ b3CreatePoseCommandSetBasePosition ] ---
@@ -4601,7 +4978,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetBasePosition(commandHandle, startPosX, startPosY, startPosZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 273, __start, nb3CreatePoseCommandSetBasePosition(commandHandle, startPosX, startPosY, startPosZ));
     }
 
     // --- [ b3CreatePoseCommandSetBaseOrientation ] ---
@@ -4612,7 +4990,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetBaseOrientation(commandHandle, startOrnX, startOrnY, startOrnZ, startOrnW);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 274, __start, nb3CreatePoseCommandSetBaseOrientation(commandHandle, startOrnX, startOrnY, startOrnZ, startOrnW));
     }
 
     // --- [ b3CreatePoseCommandSetBaseLinearVelocity ] ---
@@ -4624,7 +5003,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(linVel, 3);
         }
-        return nb3CreatePoseCommandSetBaseLinearVelocity(commandHandle, memAddress(linVel));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 275, __start, nb3CreatePoseCommandSetBaseLinearVelocity(commandHandle, memAddress(linVel)));
     }
 
     // --- [ b3CreatePoseCommandSetBaseAngularVelocity ] ---
@@ -4636,7 +5016,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(angVel, 3);
         }
-        return nb3CreatePoseCommandSetBaseAngularVelocity(commandHandle, memAddress(angVel));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 276, __start, nb3CreatePoseCommandSetBaseAngularVelocity(commandHandle, memAddress(angVel)));
     }
 
     // --- [ b3CreatePoseCommandSetJointPositions ] ---
@@ -4647,7 +5028,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetJointPositions(commandHandle, jointPositions.remaining(), memAddress(jointPositions));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 277, __start, nb3CreatePoseCommandSetJointPositions(commandHandle, jointPositions.remaining(), memAddress(jointPositions)));
     }
 
     // --- [ b3CreatePoseCommandSetJointPosition ] ---
@@ -4659,7 +5041,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetJointPosition(physClient, commandHandle, jointIndex, jointPosition);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 278, __start, nb3CreatePoseCommandSetJointPosition(physClient, commandHandle, jointIndex, jointPosition));
     }
 
     // --- [ b3CreatePoseCommandSetJointPositionMultiDof ] ---
@@ -4671,7 +5054,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetJointPositionMultiDof(physClient, commandHandle, jointIndex, memAddress(jointPosition), jointPosition.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 279, __start, nb3CreatePoseCommandSetJointPositionMultiDof(physClient, commandHandle, jointIndex, memAddress(jointPosition), jointPosition.remaining()));
     }
 
     // --- [ b3CreatePoseCommandSetQ ] ---
@@ -4683,7 +5067,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(hasQ, q.remaining());
         }
-        return nb3CreatePoseCommandSetQ(commandHandle, q.remaining(), memAddress(q), memAddress(hasQ));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 280, __start, nb3CreatePoseCommandSetQ(commandHandle, q.remaining(), memAddress(q), memAddress(hasQ)));
     }
 
     // --- [ b3CreatePoseCommandSetQdots ] ---
@@ -4695,7 +5080,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(hasQdots, qDots.remaining());
         }
-        return nb3CreatePoseCommandSetQdots(commandHandle, qDots.remaining(), memAddress(qDots), memAddress(hasQdots));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 281, __start, nb3CreatePoseCommandSetQdots(commandHandle, qDots.remaining(), memAddress(qDots), memAddress(hasQdots)));
     }
 
     // --- [ b3CreatePoseCommandSetJointVelocities ] ---
@@ -4707,7 +5093,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetJointVelocities(physClient, commandHandle, jointVelocities.remaining(), memAddress(jointVelocities));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 282, __start, nb3CreatePoseCommandSetJointVelocities(physClient, commandHandle, jointVelocities.remaining(), memAddress(jointVelocities)));
     }
 
     // --- [ b3CreatePoseCommandSetJointVelocity ] ---
@@ -4719,7 +5106,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetJointVelocity(physClient, commandHandle, jointIndex, jointVelocity);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 283, __start, nb3CreatePoseCommandSetJointVelocity(physClient, commandHandle, jointIndex, jointVelocity));
     }
 
     // --- [ b3CreatePoseCommandSetJointVelocityMultiDof ] ---
@@ -4731,7 +5119,8 @@ public class PhysicsClient {
             check(physClient);
             check(commandHandle);
         }
-        return nb3CreatePoseCommandSetJointVelocityMultiDof(physClient, commandHandle, jointIndex, memAddress(jointVelocity), jointVelocity.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 284, __start, nb3CreatePoseCommandSetJointVelocityMultiDof(physClient, commandHandle, jointIndex, memAddress(jointVelocity), jointVelocity.remaining()));
     }
 
     // --- [ b3CreateSensorCommandInit ] ---
@@ -4743,7 +5132,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateSensorCommandInit(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 285, __start, nb3CreateSensorCommandInit(physClient, bodyUniqueId));
     }
 
     // --- [ b3CreateSensorEnable6DofJointForceTorqueSensor ] ---
@@ -4754,7 +5144,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateSensorEnable6DofJointForceTorqueSensor(commandHandle, jointIndex, enable ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 286, __start, nb3CreateSensorEnable6DofJointForceTorqueSensor(commandHandle, jointIndex, enable ? 1 : 0));
     }
 
     // --- [ b3CreateSensorEnableIMUForLink ] ---
@@ -4765,7 +5156,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3CreateSensorEnableIMUForLink(commandHandle, linkIndex, enable ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 287, __start, nb3CreateSensorEnableIMUForLink(commandHandle, linkIndex, enable ? 1 : 0));
     }
 
     // --- [ b3RequestActualStateCommandInit ] ---
@@ -4777,7 +5169,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3RequestActualStateCommandInit(physClient, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 288, __start, nb3RequestActualStateCommandInit(physClient, bodyUniqueId));
     }
 
     // --- [ b3RequestActualStateCommandInit2 ] ---
@@ -4789,7 +5182,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3RequestActualStateCommandInit2(commandHandle, bodyUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 289, __start, nb3RequestActualStateCommandInit2(commandHandle, bodyUniqueId));
     }
 
     // --- [ b3RequestActualStateCommandComputeLinkVelocity ] ---
@@ -4800,7 +5194,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3RequestActualStateCommandComputeLinkVelocity(commandHandle, computeLinkVelocity);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 290, __start, nb3RequestActualStateCommandComputeLinkVelocity(commandHandle, computeLinkVelocity));
     }
 
     // --- [ b3RequestActualStateCommandComputeForwardKinematics ] ---
@@ -4811,7 +5206,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3RequestActualStateCommandComputeForwardKinematics(commandHandle, computeForwardKinematics);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 291, __start, nb3RequestActualStateCommandComputeForwardKinematics(commandHandle, computeForwardKinematics));
     }
 
     // --- [ b3GetJointState ] ---
@@ -4823,7 +5219,8 @@ public class PhysicsClient {
             check(physClient);
             check(statusHandle);
         }
-        return nb3GetJointState(physClient, statusHandle, jointIndex, state.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 292, __start, nb3GetJointState(physClient, statusHandle, jointIndex, state.address()));
     }
 
     // --- [ b3GetJointStateMultiDof ] ---
@@ -4835,7 +5232,8 @@ public class PhysicsClient {
             check(physClient);
             check(statusHandle);
         }
-        return nb3GetJointStateMultiDof(physClient, statusHandle, jointIndex, state.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 293, __start, nb3GetJointStateMultiDof(physClient, statusHandle, jointIndex, state.address()));
     }
 
     // --- [ b3GetLinkState ] ---
@@ -4847,7 +5245,8 @@ public class PhysicsClient {
             check(physClient);
             check(statusHandle);
         }
-        return nb3GetLinkState(physClient, statusHandle, linkIndex, state.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 294, __start, nb3GetLinkState(physClient, statusHandle, linkIndex, state.address()));
     }
 
     // --- [ b3PickBody ] ---
@@ -4859,7 +5258,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3PickBody(physClient, rayFromWorldX, rayFromWorldY, rayFromWorldZ, rayToWorldX, rayToWorldY, rayToWorldZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 295, __start, nb3PickBody(physClient, rayFromWorldX, rayFromWorldY, rayFromWorldZ, rayToWorldX, rayToWorldY, rayToWorldZ));
     }
 
     // --- [ b3MovePickedBody ] ---
@@ -4871,7 +5271,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3MovePickedBody(physClient, rayFromWorldX, rayFromWorldY, rayFromWorldZ, rayToWorldX, rayToWorldY, rayToWorldZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 296, __start, nb3MovePickedBody(physClient, rayFromWorldX, rayFromWorldY, rayFromWorldZ, rayToWorldX, rayToWorldY, rayToWorldZ));
     }
 
     // --- [ b3RemovePickingConstraint ] ---
@@ -4883,7 +5284,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3RemovePickingConstraint(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 297, __start, nb3RemovePickingConstraint(physClient));
     }
 
     // --- [ b3CreateRaycastCommandInit ] ---
@@ -4895,7 +5297,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateRaycastCommandInit(physClient, rayFromWorldX, rayFromWorldY, rayFromWorldZ, rayToWorldX, rayToWorldY, rayToWorldZ);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 298, __start, nb3CreateRaycastCommandInit(physClient, rayFromWorldX, rayFromWorldY, rayFromWorldZ, rayToWorldX, rayToWorldY, rayToWorldZ));
     }
 
     // --- [ b3CreateRaycastBatchCommandInit ] ---
@@ -4907,7 +5310,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3CreateRaycastBatchCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 299, __start, nb3CreateRaycastBatchCommandInit(physClient));
     }
 
     // --- [ b3RaycastBatchSetNumThreads ] ---
@@ -4918,7 +5322,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RaycastBatchSetNumThreads(commandHandle, numThreads);
+        FunctionProfiler.end(PROFILE_ID + 300, __start);
     }
 
     // --- [ b3RaycastBatchAddRay ] ---
@@ -4931,7 +5337,9 @@ public class PhysicsClient {
             check(rayFromWorld, 3);
             check(rayToWorld, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3RaycastBatchAddRay(commandHandle, memAddress(rayFromWorld), memAddress(rayToWorld));
+        FunctionProfiler.end(PROFILE_ID + 301, __start);
     }
 
     // --- [ b3RaycastBatchAddRays ] ---
@@ -4944,7 +5352,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(rayToWorld, rayFromWorld.remaining());
         }
+        long __start = FunctionProfiler.start();
         nb3RaycastBatchAddRays(physClient, commandHandle, memAddress(rayFromWorld), memAddress(rayToWorld), rayFromWorld.remaining() / 3);
+        FunctionProfiler.end(PROFILE_ID + 302, __start);
     }
 
     // --- [ b3RaycastBatchSetParentObject ] ---
@@ -4955,7 +5365,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3RaycastBatchSetParentObject(commandHandle, parentObjectUniqueId, parentLinkIndex);
+        FunctionProfiler.end(PROFILE_ID + 303, __start);
     }
 
     // --- [ b3GetRaycastInformation ] ---
@@ -4966,7 +5378,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetRaycastInformation(physClient, raycastInfo.address());
+        FunctionProfiler.end(PROFILE_ID + 304, __start);
     }
 
     // --- [ b3ApplyExternalForceCommandInit ] ---
@@ -4978,7 +5392,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3ApplyExternalForceCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 305, __start, nb3ApplyExternalForceCommandInit(physClient));
     }
 
     // --- [ b3ApplyExternalForce ] ---
@@ -4991,7 +5406,9 @@ public class PhysicsClient {
             check(force, 3);
             check(position, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3ApplyExternalForce(commandHandle, bodyUniqueId, linkId, memAddress(force), memAddress(position), flag);
+        FunctionProfiler.end(PROFILE_ID + 306, __start);
     }
 
     // --- [ b3ApplyExternalTorque ] ---
@@ -5003,7 +5420,9 @@ public class PhysicsClient {
             check(commandHandle);
             check(torque, 3);
         }
+        long __start = FunctionProfiler.start();
         nb3ApplyExternalTorque(commandHandle, bodyUniqueId, linkId, memAddress(torque), flag);
+        FunctionProfiler.end(PROFILE_ID + 307, __start);
     }
 
     // --- [ b3LoadSoftBodyCommandInit ] ---
@@ -5016,7 +5435,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(fileName);
         }
-        return nb3LoadSoftBodyCommandInit(physClient, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 308, __start, nb3LoadSoftBodyCommandInit(physClient, memAddress(fileName)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -5028,7 +5448,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3LoadSoftBodyCommandInit(physClient, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 308, __start, nb3LoadSoftBodyCommandInit(physClient, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5042,7 +5463,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadSoftBodySetScale(commandHandle, scale);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 309, __start, nb3LoadSoftBodySetScale(commandHandle, scale));
     }
 
     // --- [ b3LoadSoftBodySetMass ] ---
@@ -5053,7 +5475,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadSoftBodySetMass(commandHandle, mass);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 310, __start, nb3LoadSoftBodySetMass(commandHandle, mass));
     }
 
     // --- [ b3LoadSoftBodySetCollisionMargin ] ---
@@ -5064,7 +5487,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3LoadSoftBodySetCollisionMargin(commandHandle, collisionMargin);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 311, __start, nb3LoadSoftBodySetCollisionMargin(commandHandle, collisionMargin));
     }
 
     // --- [ b3RequestVREventsCommandInit ] ---
@@ -5076,7 +5500,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3RequestVREventsCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 312, __start, nb3RequestVREventsCommandInit(physClient));
     }
 
     // --- [ b3VREventsSetDeviceTypeFilter ] ---
@@ -5087,7 +5512,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3VREventsSetDeviceTypeFilter(commandHandle, deviceTypeFilter);
+        FunctionProfiler.end(PROFILE_ID + 313, __start);
     }
 
     // --- [ b3GetVREventsData ] ---
@@ -5098,7 +5525,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetVREventsData(physClient, vrEventsData.address());
+        FunctionProfiler.end(PROFILE_ID + 314, __start);
     }
 
     // --- [ b3SetVRCameraStateCommandInit ] ---
@@ -5110,7 +5539,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3SetVRCameraStateCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 315, __start, nb3SetVRCameraStateCommandInit(physClient));
     }
 
     // --- [ b3SetVRCameraRootPosition ] ---
@@ -5122,7 +5552,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(rootPos, 3);
         }
-        return nb3SetVRCameraRootPosition(commandHandle, memAddress(rootPos));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 316, __start, nb3SetVRCameraRootPosition(commandHandle, memAddress(rootPos)));
     }
 
     // --- [ b3SetVRCameraRootOrientation ] ---
@@ -5134,7 +5565,8 @@ public class PhysicsClient {
             check(commandHandle);
             check(rootOrn, 4);
         }
-        return nb3SetVRCameraRootOrientation(commandHandle, memAddress(rootOrn));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 317, __start, nb3SetVRCameraRootOrientation(commandHandle, memAddress(rootOrn)));
     }
 
     // --- [ b3SetVRCameraTrackingObject ] ---
@@ -5145,7 +5577,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3SetVRCameraTrackingObject(commandHandle, objectUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 318, __start, nb3SetVRCameraTrackingObject(commandHandle, objectUniqueId));
     }
 
     // --- [ b3SetVRCameraTrackingObjectFlag ] ---
@@ -5156,7 +5589,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3SetVRCameraTrackingObjectFlag(commandHandle, flag);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 319, __start, nb3SetVRCameraTrackingObjectFlag(commandHandle, flag));
     }
 
     // --- [ b3RequestKeyboardEventsCommandInit ] ---
@@ -5168,7 +5602,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3RequestKeyboardEventsCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 320, __start, nb3RequestKeyboardEventsCommandInit(physClient));
     }
 
     // --- [ b3RequestKeyboardEventsCommandInit2 ] ---
@@ -5180,7 +5615,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3RequestKeyboardEventsCommandInit2(commandHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 321, __start, nb3RequestKeyboardEventsCommandInit2(commandHandle));
     }
 
     // --- [ b3GetKeyboardEventsData ] ---
@@ -5191,7 +5627,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetKeyboardEventsData(physClient, keyboardEventsData.address());
+        FunctionProfiler.end(PROFILE_ID + 322, __start);
     }
 
     // --- [ b3RequestMouseEventsCommandInit ] ---
@@ -5203,7 +5641,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3RequestMouseEventsCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 323, __start, nb3RequestMouseEventsCommandInit(physClient));
     }
 
     // --- [ b3GetMouseEventsData ] ---
@@ -5214,7 +5653,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3GetMouseEventsData(physClient, mouseEventsData.address());
+        FunctionProfiler.end(PROFILE_ID + 324, __start);
     }
 
     // --- [ b3StateLoggingCommandInit ] ---
@@ -5226,7 +5667,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3StateLoggingCommandInit(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 325, __start, nb3StateLoggingCommandInit(physClient));
     }
 
     // --- [ b3StateLoggingStart ] ---
@@ -5238,7 +5680,8 @@ public class PhysicsClient {
             check(commandHandle);
             checkNT1(fileName);
         }
-        return nb3StateLoggingStart(commandHandle, loggingType, memAddress(fileName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 326, __start, nb3StateLoggingStart(commandHandle, loggingType, memAddress(fileName)));
     }
 
     public static int b3StateLoggingStart(@NativeType("b3SharedMemoryCommandHandle") long commandHandle, int loggingType, @NativeType("char const *") CharSequence fileName) {
@@ -5249,7 +5692,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(fileName, true);
             long fileNameEncoded = stack.getPointerAddress();
-            return nb3StateLoggingStart(commandHandle, loggingType, fileNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 326, __start, nb3StateLoggingStart(commandHandle, loggingType, fileNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5263,7 +5707,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingAddLoggingObjectUniqueId(commandHandle, objectUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 327, __start, nb3StateLoggingAddLoggingObjectUniqueId(commandHandle, objectUniqueId));
     }
 
     // --- [ b3StateLoggingSetMaxLogDof ] ---
@@ -5274,7 +5719,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetMaxLogDof(commandHandle, maxLogDof);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 328, __start, nb3StateLoggingSetMaxLogDof(commandHandle, maxLogDof));
     }
 
     // --- [ b3StateLoggingSetLinkIndexA ] ---
@@ -5285,7 +5731,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetLinkIndexA(commandHandle, linkIndexA);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 329, __start, nb3StateLoggingSetLinkIndexA(commandHandle, linkIndexA));
     }
 
     // --- [ b3StateLoggingSetLinkIndexB ] ---
@@ -5296,7 +5743,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetLinkIndexB(commandHandle, linkIndexB);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 330, __start, nb3StateLoggingSetLinkIndexB(commandHandle, linkIndexB));
     }
 
     // --- [ b3StateLoggingSetBodyAUniqueId ] ---
@@ -5307,7 +5755,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetBodyAUniqueId(commandHandle, bodyAUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 331, __start, nb3StateLoggingSetBodyAUniqueId(commandHandle, bodyAUniqueId));
     }
 
     // --- [ b3StateLoggingSetBodyBUniqueId ] ---
@@ -5318,7 +5767,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetBodyBUniqueId(commandHandle, bodyBUniqueId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 332, __start, nb3StateLoggingSetBodyBUniqueId(commandHandle, bodyBUniqueId));
     }
 
     // --- [ b3StateLoggingSetDeviceTypeFilter ] ---
@@ -5329,7 +5779,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetDeviceTypeFilter(commandHandle, deviceTypeFilter);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 333, __start, nb3StateLoggingSetDeviceTypeFilter(commandHandle, deviceTypeFilter));
     }
 
     // --- [ b3StateLoggingSetLogFlags ] ---
@@ -5340,7 +5791,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingSetLogFlags(commandHandle, logFlags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 334, __start, nb3StateLoggingSetLogFlags(commandHandle, logFlags));
     }
 
     // --- [ b3GetStatusLoggingUniqueId ] ---
@@ -5351,7 +5803,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(statusHandle);
         }
-        return nb3GetStatusLoggingUniqueId(statusHandle);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 335, __start, nb3GetStatusLoggingUniqueId(statusHandle));
     }
 
     // --- [ b3StateLoggingStop ] ---
@@ -5362,7 +5815,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
-        return nb3StateLoggingStop(commandHandle, loggingUid);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 336, __start, nb3StateLoggingStop(commandHandle, loggingUid));
     }
 
     // --- [ b3ProfileTimingCommandInit ] ---
@@ -5375,7 +5829,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(name);
         }
-        return nb3ProfileTimingCommandInit(physClient, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 337, __start, nb3ProfileTimingCommandInit(physClient, memAddress(name)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -5387,7 +5842,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nb3ProfileTimingCommandInit(physClient, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 337, __start, nb3ProfileTimingCommandInit(physClient, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5401,7 +5857,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(commandHandle);
         }
+        long __start = FunctionProfiler.start();
         nb3SetProfileTimingDuractionInMicroSeconds(commandHandle, duration);
+        FunctionProfiler.end(PROFILE_ID + 338, __start);
     }
 
     // --- [ b3PushProfileTiming ] ---
@@ -5413,7 +5871,9 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(timingName);
         }
+        long __start = FunctionProfiler.start();
         nb3PushProfileTiming(physClient, memAddress(timingName));
+        FunctionProfiler.end(PROFILE_ID + 339, __start);
     }
 
     public static void b3PushProfileTiming(@NativeType("b3PhysicsClientHandle") long physClient, @NativeType("char const *") CharSequence timingName) {
@@ -5424,7 +5884,9 @@ public class PhysicsClient {
         try {
             stack.nASCII(timingName, true);
             long timingNameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nb3PushProfileTiming(physClient, timingNameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 339, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5438,7 +5900,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3PopProfileTiming(physClient);
+        FunctionProfiler.end(PROFILE_ID + 340, __start);
     }
 
     // --- [ b3SetTimeOut ] ---
@@ -5449,7 +5913,9 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
+        long __start = FunctionProfiler.start();
         nb3SetTimeOut(physClient, timeOutInSeconds);
+        FunctionProfiler.end(PROFILE_ID + 341, __start);
     }
 
     // --- [ b3GetTimeOut ] ---
@@ -5460,7 +5926,8 @@ public class PhysicsClient {
         if (CHECKS) {
             check(physClient);
         }
-        return nb3GetTimeOut(physClient);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 342, __start, nb3GetTimeOut(physClient));
     }
 
     // --- [ b3SetAdditionalSearchPath ] ---
@@ -5473,7 +5940,8 @@ public class PhysicsClient {
             check(physClient);
             checkNT1(path);
         }
-        return nb3SetAdditionalSearchPath(physClient, memAddress(path));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 343, __start, nb3SetAdditionalSearchPath(physClient, memAddress(path)));
     }
 
     @NativeType("b3SharedMemoryCommandHandle")
@@ -5485,7 +5953,8 @@ public class PhysicsClient {
         try {
             stack.nASCII(path, true);
             long pathEncoded = stack.getPointerAddress();
-            return nb3SetAdditionalSearchPath(physClient, pathEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 343, __start, nb3SetAdditionalSearchPath(physClient, pathEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5504,7 +5973,9 @@ public class PhysicsClient {
             check(outPos, 3);
             check(outOrn, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3MultiplyTransforms(memAddress(posA), memAddress(ornA), memAddress(posB), memAddress(ornB), memAddress(outPos), memAddress(outOrn));
+        FunctionProfiler.end(PROFILE_ID + 344, __start);
     }
 
     // --- [ b3InvertTransform ] ---
@@ -5518,7 +5989,9 @@ public class PhysicsClient {
             check(outPos, 3);
             check(outOrn, 4);
         }
+        long __start = FunctionProfiler.start();
         nb3InvertTransform(memAddress(pos), memAddress(orn), memAddress(outPos), memAddress(outOrn));
+        FunctionProfiler.end(PROFILE_ID + 345, __start);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+#include "common_tools.h"
+#include "LinuxLWJGL.h"
+#include <fcntl.h>
+
+EXTERN_C_ENTER
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_linux_FCNTL_nopen(JNIEnv *__env, jclass clazz, jlong pathnameAddress, jint flags) {
+    char const *pathname = (char const *)(intptr_t)pathnameAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)open(pathname, flags);
+    saveErrno();
+    return __result;
+}
+
+EXTERN_C_EXIT
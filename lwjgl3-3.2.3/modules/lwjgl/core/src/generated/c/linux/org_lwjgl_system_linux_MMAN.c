@@ -0,0 +1,55 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+#include "common_tools.h"
+#include "LinuxLWJGL.h"
+#include <sys/mman.h>
+#include <sys/syscall.h>
+#include <unistd.h>
+// glibc does not provide a wrapper for mbind, it is exported by libnuma.
+static inline long mbind(void *addr, unsigned long len, int mode, const unsigned long *nodemask, unsigned long maxnode, unsigned int flags) {
+    return syscall(SYS_mbind, addr, len, mode, nodemask, maxnode, flags);
+}
+
+EXTERN_C_ENTER
+
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_linux_MMAN_mmap(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong length, jint prot, jint flags, jint fd, jlong offset) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    jlong __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jlong)(intptr_t)mmap(addr, (size_t)length, prot, flags, fd, (off_t)offset);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_linux_MMAN_nmunmap(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong length) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)munmap(addr, (size_t)length);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_linux_MMAN_nmadvise(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong length, jint advice) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)madvise(addr, (size_t)length, advice);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_linux_MMAN_nmbind(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong len, jint mode, jlong nodemaskAddress, jlong maxnode, jint flags) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    unsigned long const *nodemask = (unsigned long const *)(intptr_t)nodemaskAddress;
+    jlong __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jlong)mbind(addr, (unsigned long)len, mode, nodemask, (unsigned long)maxnode, (unsigned int)flags);
+    saveErrno();
+    return __result;
+}
+
+EXTERN_C_EXIT
@@ -0,0 +1,20 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+#include "common_tools.h"
+#include "LinuxLWJGL.h"
+#include <unistd.h>
+
+EXTERN_C_ENTER
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_linux_UNISTD_close(JNIEnv *__env, jclass clazz, jint fd) {
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)close(fd);
+    saveErrno();
+    return __result;
+}
+
+EXTERN_C_EXIT
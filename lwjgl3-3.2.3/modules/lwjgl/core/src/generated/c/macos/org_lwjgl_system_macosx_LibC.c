@@ -0,0 +1,63 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+#include "common_tools.h"
+#include "macOSLWJGL.h"
+#include <fcntl.h>
+#include <sys/mman.h>
+#include <unistd.h>
+
+EXTERN_C_ENTER
+
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_macosx_LibC_getpid(JNIEnv *__env, jclass clazz) {
+    UNUSED_PARAMS(__env, clazz)
+    return (jlong)getpid();
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_macosx_LibC_nopen(JNIEnv *__env, jclass clazz, jlong pathnameAddress, jint flags) {
+    char const *pathname = (char const *)(intptr_t)pathnameAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)open(pathname, flags);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_macosx_LibC_close(JNIEnv *__env, jclass clazz, jint fd) {
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)close(fd);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_macosx_LibC_mmap(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong length, jint prot, jint flags, jint fd, jlong offset) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    jlong __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jlong)(intptr_t)mmap(addr, (size_t)length, prot, flags, fd, (off_t)offset);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_macosx_LibC_nmunmap(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong length) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)munmap(addr, (size_t)length);
+    saveErrno();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_macosx_LibC_nmadvise(JNIEnv *__env, jclass clazz, jlong addrAddress, jlong length, jint advice) {
+    void *addr = (void *)(intptr_t)addrAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)madvise(addr, (size_t)length, advice);
+    saveErrno();
+    return __result;
+}
+
+EXTERN_C_EXIT
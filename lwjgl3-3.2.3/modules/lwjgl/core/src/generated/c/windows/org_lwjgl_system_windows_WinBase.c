@@ -55,4 +55,53 @@ JNIEXPORT jint JNICALL Java_org_lwjgl_system_windows_WinBase_nFreeLibrary(JNIEnv
     return __result;
 }
 
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_windows_WinBase_nCreateFile(JNIEnv *__env, jclass clazz, jlong fileNameAddress, jint desiredAccess, jint shareMode, jlong securityAttributesAddress, jint creationDisposition, jint flagsAndAttributes, jlong templateFileAddress) {
+    LPCTSTR fileName = (LPCTSTR)(intptr_t)fileNameAddress;
+    SECURITY_ATTRIBUTES *securityAttributes = (SECURITY_ATTRIBUTES *)(intptr_t)securityAttributesAddress;
+    HANDLE templateFile = (HANDLE)(intptr_t)templateFileAddress;
+    jlong __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jlong)(intptr_t)CreateFile(fileName, (DWORD)desiredAccess, (DWORD)shareMode, securityAttributes, (DWORD)creationDisposition, (DWORD)flagsAndAttributes, templateFile);
+    saveLastError();
+    return __result;
+}
+
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_windows_WinBase_nCreateFileMapping(JNIEnv *__env, jclass clazz, jlong fileAddress, jlong fileMappingAttributesAddress, jint protect, jint maximumSizeHigh, jint maximumSizeLow, jlong nameAddress) {
+    HANDLE file = (HANDLE)(intptr_t)fileAddress;
+    SECURITY_ATTRIBUTES *fileMappingAttributes = (SECURITY_ATTRIBUTES *)(intptr_t)fileMappingAttributesAddress;
+    LPCTSTR name = (LPCTSTR)(intptr_t)nameAddress;
+    jlong __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jlong)(intptr_t)CreateFileMapping(file, fileMappingAttributes, (DWORD)protect, (DWORD)maximumSizeHigh, (DWORD)maximumSizeLow, name);
+    saveLastError();
+    return __result;
+}
+
+JNIEXPORT jlong JNICALL Java_org_lwjgl_system_windows_WinBase_nMapViewOfFile(JNIEnv *__env, jclass clazz, jlong fileMappingObjectAddress, jint desiredAccess, jint fileOffsetHigh, jint fileOffsetLow, jlong numberOfBytesToMap) {
+    HANDLE fileMappingObject = (HANDLE)(intptr_t)fileMappingObjectAddress;
+    jlong __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jlong)(intptr_t)MapViewOfFile(fileMappingObject, (DWORD)desiredAccess, (DWORD)fileOffsetHigh, (DWORD)fileOffsetLow, (SIZE_T)numberOfBytesToMap);
+    saveLastError();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_windows_WinBase_nUnmapViewOfFile(JNIEnv *__env, jclass clazz, jlong baseAddressAddress) {
+    LPCVOID baseAddress = (LPCVOID)(intptr_t)baseAddressAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)UnmapViewOfFile(baseAddress);
+    saveLastError();
+    return __result;
+}
+
+JNIEXPORT jint JNICALL Java_org_lwjgl_system_windows_WinBase_nCloseHandle(JNIEnv *__env, jclass clazz, jlong objectAddress) {
+    HANDLE object = (HANDLE)(intptr_t)objectAddress;
+    jint __result;
+    UNUSED_PARAMS(__env, clazz)
+    __result = (jint)CloseHandle(object);
+    saveLastError();
+    return __result;
+}
+
 EXTERN_C_EXIT
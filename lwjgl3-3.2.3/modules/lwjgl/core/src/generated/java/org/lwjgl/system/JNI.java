@@ -163,6 +163,7 @@ public final class JNI {
     public static native long invokePPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
     public static native long invokePPPP(long param0, long param1, long param2, int param3, int param4, long __functionAddress);
     public static native long invokeJPPP(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    public static native long invokePPJP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
     public static native long invokePPPP(long param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress);
     public static native long invokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, long __functionAddress);
     public static native long invokePPPP(int param0, int param1, int param2, long param3, long param4, int param5, long param6, long __functionAddress);
@@ -0,0 +1,79 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+package org.lwjgl.system.linux;
+
+import java.nio.*;
+
+import org.lwjgl.system.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/** Native bindings to &lt;fcntl.h&gt;. */
+public class FCNTL {
+
+    /** The {@code flags} argument to {@link #open} must include one of the following access modes. */
+    public static final int
+        O_RDONLY = 0,
+        O_WRONLY = 1,
+        O_RDWR   = 2;
+
+    /** Enables the close-on-exec flag for the new file descriptor. */
+    public static final int O_CLOEXEC = 0x80000;
+
+    static { Library.initialize(); }
+
+    protected FCNTL() {
+        throw new UnsupportedOperationException();
+    }
+
+    // --- [ open ] ---
+
+    /** Unsafe version of: {@link #open} */
+    public static native int nopen(long pathname, int flags);
+
+    /**
+     * Opens the file specified by {@code pathname} and returns a file descriptor, a small, nonnegative integer that is used in subsequent system calls to
+     * refer to the open file.
+     * 
+     * <p>The {@code mode} argument is not exposed, so this function cannot be used to create new files.</p>
+     *
+     * @param pathname the file to open
+     * @param flags    the access mode, optionally combined with {@link #O_CLOEXEC}. One or more of:<br><table><tr><td>{@link #O_RDONLY}</td><td>{@link #O_WRONLY}</td><td>{@link #O_RDWR}</td><td>{@link #O_CLOEXEC}</td></tr></table>
+     *
+     * @return the new file descriptor, or -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int open(@NativeType("char const *") ByteBuffer pathname, int flags) {
+        if (CHECKS) {
+            checkNT1(pathname);
+        }
+        return nopen(memAddress(pathname), flags);
+    }
+
+    /**
+     * Opens the file specified by {@code pathname} and returns a file descriptor, a small, nonnegative integer that is used in subsequent system calls to
+     * refer to the open file.
+     * 
+     * <p>The {@code mode} argument is not exposed, so this function cannot be used to create new files.</p>
+     *
+     * @param pathname the file to open
+     * @param flags    the access mode, optionally combined with {@link #O_CLOEXEC}. One or more of:<br><table><tr><td>{@link #O_RDONLY}</td><td>{@link #O_WRONLY}</td><td>{@link #O_RDWR}</td><td>{@link #O_CLOEXEC}</td></tr></table>
+     *
+     * @return the new file descriptor, or -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int open(@NativeType("char const *") CharSequence pathname, int flags) {
+        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        try {
+            stack.nUTF8(pathname, true);
+            long pathnameEncoded = stack.getPointerAddress();
+            return nopen(pathnameEncoded, flags);
+        } finally {
+            stack.setPointer(stackPointer);
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+package org.lwjgl.system.linux;
+
+import javax.annotation.*;
+
+import org.lwjgl.*;
+
+import org.lwjgl.system.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/** Native bindings to &lt;sys/mman.h&gt;. */
+public class MMAN {
+
+    /** The {@code prot} argument to {@link #mmap} is either {@link #PROT_NONE} or the bitwise OR of one or more of the following flags. */
+    public static final int
+        PROT_NONE  = 0,
+        PROT_READ  = 0x1,
+        PROT_WRITE = 0x2,
+        PROT_EXEC  = 0x4;
+
+    /** The {@code flags} argument to {@link #mmap} must include exactly one of {@link #MAP_SHARED} or {@link #MAP_PRIVATE}, optionally combined with other flags. */
+    public static final int
+        MAP_SHARED    = 0x1,
+        MAP_PRIVATE   = 0x2,
+        MAP_ANONYMOUS = 0x20,
+        MAP_POPULATE  = 0x8000;
+
+    /** The value returned by {@link #mmap} on failure. */
+    public static final long MAP_FAILED = 0xFFFFFFFFFFFFFFFFL;
+
+    /** The {@code advice} argument to {@link #madvise}. */
+    public static final int
+        MADV_NORMAL         = 0,
+        MADV_RANDOM         = 0x1,
+        MADV_SEQUENTIAL     = 0x2,
+        MADV_WILLNEED       = 0x3,
+        MADV_DONTNEED       = 0x4,
+        MADV_HUGEPAGE       = 0xE,
+        MADV_NOHUGEPAGE     = 0xF,
+        MADV_POPULATE_READ  = 0x16,
+        MADV_POPULATE_WRITE = 0x17;
+
+    /** The {@code mode} argument to {@link #mbind}. */
+    public static final int
+        MPOL_DEFAULT    = 0,
+        MPOL_PREFERRED  = 1,
+        MPOL_BIND       = 2,
+        MPOL_INTERLEAVE = 3;
+
+    /** The {@code flags} argument to {@link #mbind}. */
+    public static final int
+        MPOL_MF_STRICT = 0x1,
+        MPOL_MF_MOVE   = 0x2;
+
+    static { Library.initialize(); }
+
+    protected MMAN() {
+        throw new UnsupportedOperationException();
+    }
+
+    // --- [ mmap ] ---
+
+    /**
+     * Creates a new mapping in the virtual address space of the calling process.
+     * 
+     * <p>The contents of a file mapping are initialized using {@code length} bytes starting at offset {@code offset} in the file referred to by the file
+     * descriptor {@code fd}. {@code offset} must be a multiple of the page size.</p>
+     * 
+     * <p>If {@link #MAP_ANONYMOUS} is specified, the mapping is not backed by any file and its contents are initialized to zero. {@code fd} should be -1 and
+     * {@code offset} should be zero.</p>
+     *
+     * @param addr   the starting address hint for the new mapping, or {@code NULL} to let the kernel choose the address
+     * @param length the length of the mapping, must be greater than 0
+     * @param prot   the desired memory protection of the mapping. One or more of:<br><table><tr><td>{@link #PROT_NONE}</td><td>{@link #PROT_READ}</td><td>{@link #PROT_WRITE}</td><td>{@link #PROT_EXEC}</td></tr></table>
+     * @param flags  determines whether updates to the mapping are visible to other processes mapping the same region. One or more of:<br><table><tr><td>{@link #MAP_SHARED}</td><td>{@link #MAP_PRIVATE}</td><td>{@link #MAP_ANONYMOUS}</td><td>{@link #MAP_POPULATE}</td></tr></table>
+     * @param fd     the file descriptor of the file to map
+     * @param offset the offset in the file
+     *
+     * @return a pointer to the mapped area on success, {@link #MAP_FAILED} if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    @NativeType("void *")
+    public static native long mmap(@NativeType("void *") long addr, @NativeType("size_t") long length, int prot, int flags, int fd, @NativeType("off_t") long offset);
+
+    // --- [ munmap ] ---
+
+    /** Unsafe version of: {@link #munmap} */
+    public static native int nmunmap(long addr, long length);
+
+    /**
+     * Deletes the mappings for the specified address range.
+     *
+     * @param addr   the start of the address range, must be a multiple of the page size
+     * @param length the length of the address range
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int munmap(@NativeType("void *") long addr, @NativeType("size_t") long length) {
+        if (CHECKS) {
+            check(addr);
+        }
+        return nmunmap(addr, length);
+    }
+
+    // --- [ madvise ] ---
+
+    /** Unsafe version of: {@link #madvise} */
+    public static native int nmadvise(long addr, long length, int advice);
+
+    /**
+     * Advises the kernel about how the specified address range is expected to be used, so that it can choose appropriate read-ahead and caching techniques.
+     * 
+     * <p>The advice does not affect the semantics of the application (except in the case of {@link #MADV_DONTNEED}), but may influence its performance.</p>
+     *
+     * @param addr   the start of the address range, must be a multiple of the page size
+     * @param length the length of the address range
+     * @param advice the advice. One of:<br><table><tr><td>{@link #MADV_NORMAL}</td><td>{@link #MADV_RANDOM}</td><td>{@link #MADV_SEQUENTIAL}</td><td>{@link #MADV_WILLNEED}</td><td>{@link #MADV_DONTNEED}</td><td>{@link #MADV_HUGEPAGE}</td></tr><tr><td>{@link #MADV_NOHUGEPAGE}</td><td>{@link #MADV_POPULATE_READ}</td><td>{@link #MADV_POPULATE_WRITE}</td></tr></table>
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int madvise(@NativeType("void *") long addr, @NativeType("size_t") long length, int advice) {
+        if (CHECKS) {
+            check(addr);
+        }
+        return nmadvise(addr, length, advice);
+    }
+
+    // --- [ mbind ] ---
+
+    /** Unsafe version of: {@link #mbind} */
+    public static native long nmbind(long addr, long len, int mode, long nodemask, long maxnode, int flags);
+
+    /**
+     * Sets the NUMA memory policy for the specified memory range.
+     * 
+     * <p>The policy applies to pages that are allocated after this call. Pages that have already been allocated are not affected, unless {@link #MPOL_MF_MOVE} is
+     * specified.</p>
+     * 
+     * <p>This function calls the {@code mbind} system call directly. It fails with {@code ENOSYS} if the kernel has been built without NUMA support.</p>
+     *
+     * @param addr     the start of the memory range, must be a multiple of the page size
+     * @param len      the length of the memory range
+     * @param mode     the memory policy. One of:<br><table><tr><td>{@link #MPOL_DEFAULT}</td><td>{@link #MPOL_PREFERRED}</td><td>{@link #MPOL_BIND}</td><td>{@link #MPOL_INTERLEAVE}</td></tr></table>
+     * @param nodemask a bit mask of node ids, or {@code NULL} for {@link #MPOL_DEFAULT}
+     * @param maxnode  the number of bits in {@code nodemask}, plus one
+     * @param flags    the policy flags. One or more of:<br><table><tr><td>{@link #MPOL_MF_STRICT}</td><td>{@link #MPOL_MF_MOVE}</td></tr></table>
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    @NativeType("long")
+    public static long mbind(@NativeType("void *") long addr, @NativeType("unsigned long") long len, int mode, @Nullable @NativeType("unsigned long const *") CLongBuffer nodemask, @NativeType("unsigned long") long maxnode, @NativeType("unsigned int") int flags) {
+        if (CHECKS) {
+            check(addr);
+        }
+        return nmbind(addr, len, mode, memAddressSafe(nodemask), maxnode, flags);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+package org.lwjgl.system.linux;
+
+import org.lwjgl.system.*;
+
+
+/** Native bindings to &lt;unistd.h&gt;. */
+public class UNISTD {
+
+    static { Library.initialize(); }
+
+    protected UNISTD() {
+        throw new UnsupportedOperationException();
+    }
+
+    // --- [ close ] ---
+
+    /**
+     * Closes a file descriptor, so that it no longer refers to any file and may be reused.
+     * 
+     * <p>Mappings created with {@code mmap} are not affected, they remain valid until they are explicitly unmapped.</p>
+     *
+     * @param fd the file descriptor to close
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static native int close(int fd);
+
+}
\ No newline at end of file
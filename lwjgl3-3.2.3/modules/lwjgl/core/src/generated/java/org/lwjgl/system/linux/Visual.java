@@ -266,6 +266,24 @@ public class Visual extends Struct implements NativeResource {
         return wrap(Visual.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code Visual} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static Visual malloc(MemoryArena arena) {
+        return wrap(Visual.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code Visual} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static Visual calloc(MemoryArena arena) {
+        return wrap(Visual.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link Visual.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -304,6 +322,26 @@ public class Visual extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link Visual.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static Visual.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link Visual.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static Visual.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ext_data}. */
@@ -417,6 +455,32 @@ public class Visual extends Struct implements NativeResource {
         /** Sets the specified value to the {@code map_entries} field. */
         public Visual.Buffer map_entries(int value) { Visual.nmap_entries(address(), value); return this; }
 
+        /** Copies the {@code class} field of the structs between the current position and limit to the specified array. */
+        public Visual.Buffer getClass(int[] dst) { gather(Visual.CLASS, dst); return this; }
+        /** Copies the {@code class} field of the structs between the current position and limit to the specified buffer. */
+        public Visual.Buffer getClass(IntBuffer dst) { gather(Visual.CLASS, dst); return this; }
+        /** Copies the {@code bits_per_rgb} field of the structs between the current position and limit to the specified array. */
+        public Visual.Buffer getBits_per_rgb(int[] dst) { gather(Visual.BITS_PER_RGB, dst); return this; }
+        /** Copies the {@code bits_per_rgb} field of the structs between the current position and limit to the specified buffer. */
+        public Visual.Buffer getBits_per_rgb(IntBuffer dst) { gather(Visual.BITS_PER_RGB, dst); return this; }
+        /** Copies the {@code map_entries} field of the structs between the current position and limit to the specified array. */
+        public Visual.Buffer getMap_entries(int[] dst) { gather(Visual.MAP_ENTRIES, dst); return this; }
+        /** Copies the {@code map_entries} field of the structs between the current position and limit to the specified buffer. */
+        public Visual.Buffer getMap_entries(IntBuffer dst) { gather(Visual.MAP_ENTRIES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code class} field of the structs between the current position and limit. */
+        public Visual.Buffer putClass(int[] src) { scatter(Visual.CLASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code class} field of the structs between the current position and limit. */
+        public Visual.Buffer putClass(IntBuffer src) { scatter(Visual.CLASS, src); return this; }
+        /** Copies the values in the specified array to the {@code bits_per_rgb} field of the structs between the current position and limit. */
+        public Visual.Buffer putBits_per_rgb(int[] src) { scatter(Visual.BITS_PER_RGB, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bits_per_rgb} field of the structs between the current position and limit. */
+        public Visual.Buffer putBits_per_rgb(IntBuffer src) { scatter(Visual.BITS_PER_RGB, src); return this; }
+        /** Copies the values in the specified array to the {@code map_entries} field of the structs between the current position and limit. */
+        public Visual.Buffer putMap_entries(int[] src) { scatter(Visual.MAP_ENTRIES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code map_entries} field of the structs between the current position and limit. */
+        public Visual.Buffer putMap_entries(IntBuffer src) { scatter(Visual.MAP_ENTRIES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -246,6 +246,24 @@ public class XAnyEvent extends Struct implements NativeResource {
         return wrap(XAnyEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XAnyEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XAnyEvent malloc(MemoryArena arena) {
+        return wrap(XAnyEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XAnyEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XAnyEvent calloc(MemoryArena arena) {
+        return wrap(XAnyEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XAnyEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class XAnyEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XAnyEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XAnyEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XAnyEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XAnyEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -393,6 +431,16 @@ public class XAnyEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code window} field. */
         public XAnyEvent.Buffer window(@NativeType("Window") long value) { XAnyEvent.nwindow(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XAnyEvent.Buffer getType(int[] dst) { gather(XAnyEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XAnyEvent.Buffer getType(IntBuffer dst) { gather(XAnyEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XAnyEvent.Buffer putType(int[] src) { scatter(XAnyEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XAnyEvent.Buffer putType(IntBuffer src) { scatter(XAnyEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -362,6 +362,24 @@ public class XButtonEvent extends Struct implements NativeResource {
         return wrap(XButtonEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XButtonEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XButtonEvent malloc(MemoryArena arena) {
+        return wrap(XButtonEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XButtonEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XButtonEvent calloc(MemoryArena arena) {
+        return wrap(XButtonEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XButtonEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -400,6 +418,26 @@ public class XButtonEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XButtonEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XButtonEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XButtonEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XButtonEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -595,6 +633,64 @@ public class XButtonEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code same_screen} field. */
         public XButtonEvent.Buffer same_screen(@NativeType("Bool") boolean value) { XButtonEvent.nsame_screen(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getType(int[] dst) { gather(XButtonEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getType(IntBuffer dst) { gather(XButtonEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getX(int[] dst) { gather(XButtonEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getX(IntBuffer dst) { gather(XButtonEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getY(int[] dst) { gather(XButtonEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getY(IntBuffer dst) { gather(XButtonEvent.Y, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getX_root(int[] dst) { gather(XButtonEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getX_root(IntBuffer dst) { gather(XButtonEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getY_root(int[] dst) { gather(XButtonEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getY_root(IntBuffer dst) { gather(XButtonEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getState(int[] dst) { gather(XButtonEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getState(IntBuffer dst) { gather(XButtonEvent.STATE, dst); return this; }
+        /** Copies the {@code button} field of the structs between the current position and limit to the specified array. */
+        public XButtonEvent.Buffer getButton(int[] dst) { gather(XButtonEvent.BUTTON, dst); return this; }
+        /** Copies the {@code button} field of the structs between the current position and limit to the specified buffer. */
+        public XButtonEvent.Buffer getButton(IntBuffer dst) { gather(XButtonEvent.BUTTON, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putType(int[] src) { scatter(XButtonEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putType(IntBuffer src) { scatter(XButtonEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putX(int[] src) { scatter(XButtonEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putX(IntBuffer src) { scatter(XButtonEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putY(int[] src) { scatter(XButtonEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putY(IntBuffer src) { scatter(XButtonEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code x_root} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putX_root(int[] src) { scatter(XButtonEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x_root} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putX_root(IntBuffer src) { scatter(XButtonEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code y_root} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putY_root(int[] src) { scatter(XButtonEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y_root} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putY_root(IntBuffer src) { scatter(XButtonEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putState(int[] src) { scatter(XButtonEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putState(IntBuffer src) { scatter(XButtonEvent.STATE, src); return this; }
+        /** Copies the values in the specified array to the {@code button} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putButton(int[] src) { scatter(XButtonEvent.BUTTON, src); return this; }
+        /** Copies the values in the specified buffer to the {@code button} field of the structs between the current position and limit. */
+        public XButtonEvent.Buffer putButton(IntBuffer src) { scatter(XButtonEvent.BUTTON, src); return this; }
+
     }
 
 }
\ No newline at end of file
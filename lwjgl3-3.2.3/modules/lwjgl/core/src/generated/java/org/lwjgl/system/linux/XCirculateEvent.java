@@ -264,6 +264,24 @@ public class XCirculateEvent extends Struct implements NativeResource {
         return wrap(XCirculateEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XCirculateEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCirculateEvent malloc(MemoryArena arena) {
+        return wrap(XCirculateEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XCirculateEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCirculateEvent calloc(MemoryArena arena) {
+        return wrap(XCirculateEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XCirculateEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class XCirculateEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XCirculateEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCirculateEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XCirculateEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCirculateEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -428,6 +466,24 @@ public class XCirculateEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code place} field. */
         public XCirculateEvent.Buffer place(int value) { XCirculateEvent.nplace(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XCirculateEvent.Buffer getType(int[] dst) { gather(XCirculateEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XCirculateEvent.Buffer getType(IntBuffer dst) { gather(XCirculateEvent.TYPE, dst); return this; }
+        /** Copies the {@code place} field of the structs between the current position and limit to the specified array. */
+        public XCirculateEvent.Buffer getPlace(int[] dst) { gather(XCirculateEvent.PLACE, dst); return this; }
+        /** Copies the {@code place} field of the structs between the current position and limit to the specified buffer. */
+        public XCirculateEvent.Buffer getPlace(IntBuffer dst) { gather(XCirculateEvent.PLACE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XCirculateEvent.Buffer putType(int[] src) { scatter(XCirculateEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XCirculateEvent.Buffer putType(IntBuffer src) { scatter(XCirculateEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code place} field of the structs between the current position and limit. */
+        public XCirculateEvent.Buffer putPlace(int[] src) { scatter(XCirculateEvent.PLACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code place} field of the structs between the current position and limit. */
+        public XCirculateEvent.Buffer putPlace(IntBuffer src) { scatter(XCirculateEvent.PLACE, src); return this; }
+
     }
 
 }
\ No newline at end of file
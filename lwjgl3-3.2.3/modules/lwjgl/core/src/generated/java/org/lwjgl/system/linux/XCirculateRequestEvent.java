@@ -264,6 +264,24 @@ public class XCirculateRequestEvent extends Struct implements NativeResource {
         return wrap(XCirculateRequestEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XCirculateRequestEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCirculateRequestEvent malloc(MemoryArena arena) {
+        return wrap(XCirculateRequestEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XCirculateRequestEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCirculateRequestEvent calloc(MemoryArena arena) {
+        return wrap(XCirculateRequestEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XCirculateRequestEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class XCirculateRequestEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XCirculateRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCirculateRequestEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XCirculateRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCirculateRequestEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -428,6 +466,24 @@ public class XCirculateRequestEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code place} field. */
         public XCirculateRequestEvent.Buffer place(int value) { XCirculateRequestEvent.nplace(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XCirculateRequestEvent.Buffer getType(int[] dst) { gather(XCirculateRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XCirculateRequestEvent.Buffer getType(IntBuffer dst) { gather(XCirculateRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code place} field of the structs between the current position and limit to the specified array. */
+        public XCirculateRequestEvent.Buffer getPlace(int[] dst) { gather(XCirculateRequestEvent.PLACE, dst); return this; }
+        /** Copies the {@code place} field of the structs between the current position and limit to the specified buffer. */
+        public XCirculateRequestEvent.Buffer getPlace(IntBuffer dst) { gather(XCirculateRequestEvent.PLACE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XCirculateRequestEvent.Buffer putType(int[] src) { scatter(XCirculateRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XCirculateRequestEvent.Buffer putType(IntBuffer src) { scatter(XCirculateRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code place} field of the structs between the current position and limit. */
+        public XCirculateRequestEvent.Buffer putPlace(int[] src) { scatter(XCirculateRequestEvent.PLACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code place} field of the structs between the current position and limit. */
+        public XCirculateRequestEvent.Buffer putPlace(IntBuffer src) { scatter(XCirculateRequestEvent.PLACE, src); return this; }
+
     }
 
 }
\ No newline at end of file
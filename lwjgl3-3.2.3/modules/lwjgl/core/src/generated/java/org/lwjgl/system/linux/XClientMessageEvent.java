@@ -324,6 +324,24 @@ public class XClientMessageEvent extends Struct implements NativeResource {
         return wrap(XClientMessageEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XClientMessageEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XClientMessageEvent malloc(MemoryArena arena) {
+        return wrap(XClientMessageEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XClientMessageEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XClientMessageEvent calloc(MemoryArena arena) {
+        return wrap(XClientMessageEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XClientMessageEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -362,6 +380,26 @@ public class XClientMessageEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XClientMessageEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XClientMessageEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XClientMessageEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XClientMessageEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -561,6 +599,24 @@ public class XClientMessageEvent extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code data.l} field. */
         public XClientMessageEvent.Buffer data_l(int index, long value) { XClientMessageEvent.ndata_l(address(), index, value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XClientMessageEvent.Buffer getType(int[] dst) { gather(XClientMessageEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XClientMessageEvent.Buffer getType(IntBuffer dst) { gather(XClientMessageEvent.TYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public XClientMessageEvent.Buffer getFormat(int[] dst) { gather(XClientMessageEvent.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public XClientMessageEvent.Buffer getFormat(IntBuffer dst) { gather(XClientMessageEvent.FORMAT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XClientMessageEvent.Buffer putType(int[] src) { scatter(XClientMessageEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XClientMessageEvent.Buffer putType(IntBuffer src) { scatter(XClientMessageEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public XClientMessageEvent.Buffer putFormat(int[] src) { scatter(XClientMessageEvent.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public XClientMessageEvent.Buffer putFormat(IntBuffer src) { scatter(XClientMessageEvent.FORMAT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -276,6 +276,24 @@ public class XColormapEvent extends Struct implements NativeResource {
         return wrap(XColormapEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XColormapEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XColormapEvent malloc(MemoryArena arena) {
+        return wrap(XColormapEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XColormapEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XColormapEvent calloc(MemoryArena arena) {
+        return wrap(XColormapEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XColormapEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -314,6 +332,26 @@ public class XColormapEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XColormapEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XColormapEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XColormapEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XColormapEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -448,6 +486,32 @@ public class XColormapEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code state} field. */
         public XColormapEvent.Buffer state(int value) { XColormapEvent.nstate(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XColormapEvent.Buffer getType(int[] dst) { gather(XColormapEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XColormapEvent.Buffer getType(IntBuffer dst) { gather(XColormapEvent.TYPE, dst); return this; }
+        /** Copies the {@code new} field of the structs between the current position and limit to the specified array. */
+        public XColormapEvent.Buffer getNew(int[] dst) { gather(XColormapEvent.NEW, dst); return this; }
+        /** Copies the {@code new} field of the structs between the current position and limit to the specified buffer. */
+        public XColormapEvent.Buffer getNew(IntBuffer dst) { gather(XColormapEvent.NEW, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XColormapEvent.Buffer getState(int[] dst) { gather(XColormapEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XColormapEvent.Buffer getState(IntBuffer dst) { gather(XColormapEvent.STATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XColormapEvent.Buffer putType(int[] src) { scatter(XColormapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XColormapEvent.Buffer putType(IntBuffer src) { scatter(XColormapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code new} field of the structs between the current position and limit. */
+        public XColormapEvent.Buffer putNew(int[] src) { scatter(XColormapEvent.NEW, src); return this; }
+        /** Copies the values in the specified buffer to the {@code new} field of the structs between the current position and limit. */
+        public XColormapEvent.Buffer putNew(IntBuffer src) { scatter(XColormapEvent.NEW, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XColormapEvent.Buffer putState(int[] src) { scatter(XColormapEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XColormapEvent.Buffer putState(IntBuffer src) { scatter(XColormapEvent.STATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -317,6 +317,24 @@ public class XConfigureEvent extends Struct implements NativeResource {
         return wrap(XConfigureEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XConfigureEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XConfigureEvent malloc(MemoryArena arena) {
+        return wrap(XConfigureEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XConfigureEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XConfigureEvent calloc(MemoryArena arena) {
+        return wrap(XConfigureEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XConfigureEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -355,6 +373,26 @@ public class XConfigureEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XConfigureEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XConfigureEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XConfigureEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XConfigureEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -522,6 +560,56 @@ public class XConfigureEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code override_redirect} field. */
         public XConfigureEvent.Buffer override_redirect(@NativeType("Bool") boolean value) { XConfigureEvent.noverride_redirect(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XConfigureEvent.Buffer getType(int[] dst) { gather(XConfigureEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureEvent.Buffer getType(IntBuffer dst) { gather(XConfigureEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XConfigureEvent.Buffer getX(int[] dst) { gather(XConfigureEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureEvent.Buffer getX(IntBuffer dst) { gather(XConfigureEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XConfigureEvent.Buffer getY(int[] dst) { gather(XConfigureEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureEvent.Buffer getY(IntBuffer dst) { gather(XConfigureEvent.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public XConfigureEvent.Buffer getWidth(int[] dst) { gather(XConfigureEvent.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureEvent.Buffer getWidth(IntBuffer dst) { gather(XConfigureEvent.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public XConfigureEvent.Buffer getHeight(int[] dst) { gather(XConfigureEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureEvent.Buffer getHeight(IntBuffer dst) { gather(XConfigureEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code border_width} field of the structs between the current position and limit to the specified array. */
+        public XConfigureEvent.Buffer getBorder_width(int[] dst) { gather(XConfigureEvent.BORDER_WIDTH, dst); return this; }
+        /** Copies the {@code border_width} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureEvent.Buffer getBorder_width(IntBuffer dst) { gather(XConfigureEvent.BORDER_WIDTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putType(int[] src) { scatter(XConfigureEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putType(IntBuffer src) { scatter(XConfigureEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putX(int[] src) { scatter(XConfigureEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putX(IntBuffer src) { scatter(XConfigureEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putY(int[] src) { scatter(XConfigureEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putY(IntBuffer src) { scatter(XConfigureEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putWidth(int[] src) { scatter(XConfigureEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putWidth(IntBuffer src) { scatter(XConfigureEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putHeight(int[] src) { scatter(XConfigureEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putHeight(IntBuffer src) { scatter(XConfigureEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code border_width} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putBorder_width(int[] src) { scatter(XConfigureEvent.BORDER_WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border_width} field of the structs between the current position and limit. */
+        public XConfigureEvent.Buffer putBorder_width(IntBuffer src) { scatter(XConfigureEvent.BORDER_WIDTH, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -336,6 +336,24 @@ public class XConfigureRequestEvent extends Struct implements NativeResource {
         return wrap(XConfigureRequestEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XConfigureRequestEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XConfigureRequestEvent malloc(MemoryArena arena) {
+        return wrap(XConfigureRequestEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XConfigureRequestEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XConfigureRequestEvent calloc(MemoryArena arena) {
+        return wrap(XConfigureRequestEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XConfigureRequestEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -374,6 +392,26 @@ public class XConfigureRequestEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XConfigureRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XConfigureRequestEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XConfigureRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XConfigureRequestEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -558,6 +596,64 @@ public class XConfigureRequestEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code value_mask} field. */
         public XConfigureRequestEvent.Buffer value_mask(@NativeType("unsigned long") long value) { XConfigureRequestEvent.nvalue_mask(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getType(int[] dst) { gather(XConfigureRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getType(IntBuffer dst) { gather(XConfigureRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getX(int[] dst) { gather(XConfigureRequestEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getX(IntBuffer dst) { gather(XConfigureRequestEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getY(int[] dst) { gather(XConfigureRequestEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getY(IntBuffer dst) { gather(XConfigureRequestEvent.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getWidth(int[] dst) { gather(XConfigureRequestEvent.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getWidth(IntBuffer dst) { gather(XConfigureRequestEvent.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getHeight(int[] dst) { gather(XConfigureRequestEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getHeight(IntBuffer dst) { gather(XConfigureRequestEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code border_width} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getBorder_width(int[] dst) { gather(XConfigureRequestEvent.BORDER_WIDTH, dst); return this; }
+        /** Copies the {@code border_width} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getBorder_width(IntBuffer dst) { gather(XConfigureRequestEvent.BORDER_WIDTH, dst); return this; }
+        /** Copies the {@code detail} field of the structs between the current position and limit to the specified array. */
+        public XConfigureRequestEvent.Buffer getDetail(int[] dst) { gather(XConfigureRequestEvent.DETAIL, dst); return this; }
+        /** Copies the {@code detail} field of the structs between the current position and limit to the specified buffer. */
+        public XConfigureRequestEvent.Buffer getDetail(IntBuffer dst) { gather(XConfigureRequestEvent.DETAIL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putType(int[] src) { scatter(XConfigureRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putType(IntBuffer src) { scatter(XConfigureRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putX(int[] src) { scatter(XConfigureRequestEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putX(IntBuffer src) { scatter(XConfigureRequestEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putY(int[] src) { scatter(XConfigureRequestEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putY(IntBuffer src) { scatter(XConfigureRequestEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putWidth(int[] src) { scatter(XConfigureRequestEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putWidth(IntBuffer src) { scatter(XConfigureRequestEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putHeight(int[] src) { scatter(XConfigureRequestEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putHeight(IntBuffer src) { scatter(XConfigureRequestEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code border_width} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putBorder_width(int[] src) { scatter(XConfigureRequestEvent.BORDER_WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border_width} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putBorder_width(IntBuffer src) { scatter(XConfigureRequestEvent.BORDER_WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code detail} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putDetail(int[] src) { scatter(XConfigureRequestEvent.DETAIL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code detail} field of the structs between the current position and limit. */
+        public XConfigureRequestEvent.Buffer putDetail(IntBuffer src) { scatter(XConfigureRequestEvent.DETAIL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -321,6 +321,24 @@ public class XCreateWindowEvent extends Struct implements NativeResource {
         return wrap(XCreateWindowEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XCreateWindowEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCreateWindowEvent malloc(MemoryArena arena) {
+        return wrap(XCreateWindowEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XCreateWindowEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCreateWindowEvent calloc(MemoryArena arena) {
+        return wrap(XCreateWindowEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XCreateWindowEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -359,6 +377,26 @@ public class XCreateWindowEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XCreateWindowEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCreateWindowEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XCreateWindowEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCreateWindowEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -525,6 +563,64 @@ public class XCreateWindowEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code override_redirect} field. */
         public XCreateWindowEvent.Buffer override_redirect(int value) { XCreateWindowEvent.noverride_redirect(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getType(int[] dst) { gather(XCreateWindowEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getType(IntBuffer dst) { gather(XCreateWindowEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getX(int[] dst) { gather(XCreateWindowEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getX(IntBuffer dst) { gather(XCreateWindowEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getY(int[] dst) { gather(XCreateWindowEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getY(IntBuffer dst) { gather(XCreateWindowEvent.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getWidth(int[] dst) { gather(XCreateWindowEvent.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getWidth(IntBuffer dst) { gather(XCreateWindowEvent.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getHeight(int[] dst) { gather(XCreateWindowEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getHeight(IntBuffer dst) { gather(XCreateWindowEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code border_width} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getBorder_width(int[] dst) { gather(XCreateWindowEvent.BORDER_WIDTH, dst); return this; }
+        /** Copies the {@code border_width} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getBorder_width(IntBuffer dst) { gather(XCreateWindowEvent.BORDER_WIDTH, dst); return this; }
+        /** Copies the {@code override_redirect} field of the structs between the current position and limit to the specified array. */
+        public XCreateWindowEvent.Buffer getOverride_redirect(int[] dst) { gather(XCreateWindowEvent.OVERRIDE_REDIRECT, dst); return this; }
+        /** Copies the {@code override_redirect} field of the structs between the current position and limit to the specified buffer. */
+        public XCreateWindowEvent.Buffer getOverride_redirect(IntBuffer dst) { gather(XCreateWindowEvent.OVERRIDE_REDIRECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putType(int[] src) { scatter(XCreateWindowEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putType(IntBuffer src) { scatter(XCreateWindowEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putX(int[] src) { scatter(XCreateWindowEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putX(IntBuffer src) { scatter(XCreateWindowEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putY(int[] src) { scatter(XCreateWindowEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putY(IntBuffer src) { scatter(XCreateWindowEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putWidth(int[] src) { scatter(XCreateWindowEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putWidth(IntBuffer src) { scatter(XCreateWindowEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putHeight(int[] src) { scatter(XCreateWindowEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putHeight(IntBuffer src) { scatter(XCreateWindowEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code border_width} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putBorder_width(int[] src) { scatter(XCreateWindowEvent.BORDER_WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border_width} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putBorder_width(IntBuffer src) { scatter(XCreateWindowEvent.BORDER_WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code override_redirect} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putOverride_redirect(int[] src) { scatter(XCreateWindowEvent.OVERRIDE_REDIRECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code override_redirect} field of the structs between the current position and limit. */
+        public XCreateWindowEvent.Buffer putOverride_redirect(IntBuffer src) { scatter(XCreateWindowEvent.OVERRIDE_REDIRECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
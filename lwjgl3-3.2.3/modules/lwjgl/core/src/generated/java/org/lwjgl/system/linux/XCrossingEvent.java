@@ -379,6 +379,24 @@ public class XCrossingEvent extends Struct implements NativeResource {
         return wrap(XCrossingEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XCrossingEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCrossingEvent malloc(MemoryArena arena) {
+        return wrap(XCrossingEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XCrossingEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XCrossingEvent calloc(MemoryArena arena) {
+        return wrap(XCrossingEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XCrossingEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -417,6 +435,26 @@ public class XCrossingEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XCrossingEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCrossingEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XCrossingEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XCrossingEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -626,6 +664,88 @@ public class XCrossingEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code state} field. */
         public XCrossingEvent.Buffer state(@NativeType("unsigned int") int value) { XCrossingEvent.nstate(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getType(int[] dst) { gather(XCrossingEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getType(IntBuffer dst) { gather(XCrossingEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getX(int[] dst) { gather(XCrossingEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getX(IntBuffer dst) { gather(XCrossingEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getY(int[] dst) { gather(XCrossingEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getY(IntBuffer dst) { gather(XCrossingEvent.Y, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getX_root(int[] dst) { gather(XCrossingEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getX_root(IntBuffer dst) { gather(XCrossingEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getY_root(int[] dst) { gather(XCrossingEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getY_root(IntBuffer dst) { gather(XCrossingEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getMode(int[] dst) { gather(XCrossingEvent.MODE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getMode(IntBuffer dst) { gather(XCrossingEvent.MODE, dst); return this; }
+        /** Copies the {@code detail} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getDetail(int[] dst) { gather(XCrossingEvent.DETAIL, dst); return this; }
+        /** Copies the {@code detail} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getDetail(IntBuffer dst) { gather(XCrossingEvent.DETAIL, dst); return this; }
+        /** Copies the {@code same_screen} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getSame_screen(int[] dst) { gather(XCrossingEvent.SAME_SCREEN, dst); return this; }
+        /** Copies the {@code same_screen} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getSame_screen(IntBuffer dst) { gather(XCrossingEvent.SAME_SCREEN, dst); return this; }
+        /** Copies the {@code focus} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getFocus(int[] dst) { gather(XCrossingEvent.FOCUS, dst); return this; }
+        /** Copies the {@code focus} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getFocus(IntBuffer dst) { gather(XCrossingEvent.FOCUS, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XCrossingEvent.Buffer getState(int[] dst) { gather(XCrossingEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XCrossingEvent.Buffer getState(IntBuffer dst) { gather(XCrossingEvent.STATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putType(int[] src) { scatter(XCrossingEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putType(IntBuffer src) { scatter(XCrossingEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putX(int[] src) { scatter(XCrossingEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putX(IntBuffer src) { scatter(XCrossingEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putY(int[] src) { scatter(XCrossingEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putY(IntBuffer src) { scatter(XCrossingEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code x_root} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putX_root(int[] src) { scatter(XCrossingEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x_root} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putX_root(IntBuffer src) { scatter(XCrossingEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code y_root} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putY_root(int[] src) { scatter(XCrossingEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y_root} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putY_root(IntBuffer src) { scatter(XCrossingEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code mode} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putMode(int[] src) { scatter(XCrossingEvent.MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mode} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putMode(IntBuffer src) { scatter(XCrossingEvent.MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code detail} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putDetail(int[] src) { scatter(XCrossingEvent.DETAIL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code detail} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putDetail(IntBuffer src) { scatter(XCrossingEvent.DETAIL, src); return this; }
+        /** Copies the values in the specified array to the {@code same_screen} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putSame_screen(int[] src) { scatter(XCrossingEvent.SAME_SCREEN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code same_screen} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putSame_screen(IntBuffer src) { scatter(XCrossingEvent.SAME_SCREEN, src); return this; }
+        /** Copies the values in the specified array to the {@code focus} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putFocus(int[] src) { scatter(XCrossingEvent.FOCUS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code focus} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putFocus(IntBuffer src) { scatter(XCrossingEvent.FOCUS, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putState(int[] src) { scatter(XCrossingEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XCrossingEvent.Buffer putState(IntBuffer src) { scatter(XCrossingEvent.STATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class XDestroyWindowEvent extends Struct implements NativeResource {
         return wrap(XDestroyWindowEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XDestroyWindowEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XDestroyWindowEvent malloc(MemoryArena arena) {
+        return wrap(XDestroyWindowEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XDestroyWindowEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XDestroyWindowEvent calloc(MemoryArena arena) {
+        return wrap(XDestroyWindowEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XDestroyWindowEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class XDestroyWindowEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XDestroyWindowEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XDestroyWindowEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XDestroyWindowEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XDestroyWindowEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -409,6 +447,16 @@ public class XDestroyWindowEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code window} field. */
         public XDestroyWindowEvent.Buffer window(@NativeType("Window") long value) { XDestroyWindowEvent.nwindow(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XDestroyWindowEvent.Buffer getType(int[] dst) { gather(XDestroyWindowEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XDestroyWindowEvent.Buffer getType(IntBuffer dst) { gather(XDestroyWindowEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XDestroyWindowEvent.Buffer putType(int[] src) { scatter(XDestroyWindowEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XDestroyWindowEvent.Buffer putType(IntBuffer src) { scatter(XDestroyWindowEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
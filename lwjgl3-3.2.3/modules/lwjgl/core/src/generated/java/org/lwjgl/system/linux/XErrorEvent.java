@@ -269,6 +269,24 @@ public class XErrorEvent extends Struct implements NativeResource {
         return wrap(XErrorEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XErrorEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XErrorEvent malloc(MemoryArena arena) {
+        return wrap(XErrorEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XErrorEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XErrorEvent calloc(MemoryArena arena) {
+        return wrap(XErrorEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XErrorEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class XErrorEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XErrorEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XErrorEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XErrorEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XErrorEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -434,6 +472,40 @@ public class XErrorEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code minor_code} field. */
         public XErrorEvent.Buffer minor_code(@NativeType("unsigned char") byte value) { XErrorEvent.nminor_code(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XErrorEvent.Buffer getType(int[] dst) { gather(XErrorEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XErrorEvent.Buffer getType(IntBuffer dst) { gather(XErrorEvent.TYPE, dst); return this; }
+        /** Copies the {@code error_code} field of the structs between the current position and limit to the specified array. */
+        public XErrorEvent.Buffer getError_code(byte[] dst) { gather(XErrorEvent.ERROR_CODE, dst); return this; }
+        /** Copies the {@code error_code} field of the structs between the current position and limit to the specified buffer. */
+        public XErrorEvent.Buffer getError_code(ByteBuffer dst) { gather(XErrorEvent.ERROR_CODE, dst); return this; }
+        /** Copies the {@code request_code} field of the structs between the current position and limit to the specified array. */
+        public XErrorEvent.Buffer getRequest_code(byte[] dst) { gather(XErrorEvent.REQUEST_CODE, dst); return this; }
+        /** Copies the {@code request_code} field of the structs between the current position and limit to the specified buffer. */
+        public XErrorEvent.Buffer getRequest_code(ByteBuffer dst) { gather(XErrorEvent.REQUEST_CODE, dst); return this; }
+        /** Copies the {@code minor_code} field of the structs between the current position and limit to the specified array. */
+        public XErrorEvent.Buffer getMinor_code(byte[] dst) { gather(XErrorEvent.MINOR_CODE, dst); return this; }
+        /** Copies the {@code minor_code} field of the structs between the current position and limit to the specified buffer. */
+        public XErrorEvent.Buffer getMinor_code(ByteBuffer dst) { gather(XErrorEvent.MINOR_CODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putType(int[] src) { scatter(XErrorEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putType(IntBuffer src) { scatter(XErrorEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code error_code} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putError_code(byte[] src) { scatter(XErrorEvent.ERROR_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code error_code} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putError_code(ByteBuffer src) { scatter(XErrorEvent.ERROR_CODE, src); return this; }
+        /** Copies the values in the specified array to the {@code request_code} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putRequest_code(byte[] src) { scatter(XErrorEvent.REQUEST_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code request_code} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putRequest_code(ByteBuffer src) { scatter(XErrorEvent.REQUEST_CODE, src); return this; }
+        /** Copies the values in the specified array to the {@code minor_code} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putMinor_code(byte[] src) { scatter(XErrorEvent.MINOR_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minor_code} field of the structs between the current position and limit. */
+        public XErrorEvent.Buffer putMinor_code(ByteBuffer src) { scatter(XErrorEvent.MINOR_CODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
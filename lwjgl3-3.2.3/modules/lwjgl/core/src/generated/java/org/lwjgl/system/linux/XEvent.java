@@ -370,6 +370,24 @@ public class XEvent extends Struct implements NativeResource {
         return wrap(XEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XEvent malloc(MemoryArena arena) {
+        return wrap(XEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XEvent calloc(MemoryArena arena) {
+        return wrap(XEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -408,6 +426,26 @@ public class XEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -590,6 +628,11 @@ public class XEvent extends Struct implements NativeResource {
         /** Returns a {@link XGenericEventCookie} view of the {@code xcookie} field. */
         public XGenericEventCookie xcookie() { return XEvent.nxcookie(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XEvent.Buffer getType(int[] dst) { gather(XEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XEvent.Buffer getType(IntBuffer dst) { gather(XEvent.TYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
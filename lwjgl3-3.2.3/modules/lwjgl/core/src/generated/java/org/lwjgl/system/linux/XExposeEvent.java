@@ -294,6 +294,24 @@ public class XExposeEvent extends Struct implements NativeResource {
         return wrap(XExposeEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XExposeEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XExposeEvent malloc(MemoryArena arena) {
+        return wrap(XExposeEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XExposeEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XExposeEvent calloc(MemoryArena arena) {
+        return wrap(XExposeEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XExposeEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -332,6 +350,26 @@ public class XExposeEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XExposeEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XExposeEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XExposeEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XExposeEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -481,6 +519,56 @@ public class XExposeEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code count} field. */
         public XExposeEvent.Buffer count(int value) { XExposeEvent.ncount(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XExposeEvent.Buffer getType(int[] dst) { gather(XExposeEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XExposeEvent.Buffer getType(IntBuffer dst) { gather(XExposeEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XExposeEvent.Buffer getX(int[] dst) { gather(XExposeEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XExposeEvent.Buffer getX(IntBuffer dst) { gather(XExposeEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XExposeEvent.Buffer getY(int[] dst) { gather(XExposeEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XExposeEvent.Buffer getY(IntBuffer dst) { gather(XExposeEvent.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public XExposeEvent.Buffer getWidth(int[] dst) { gather(XExposeEvent.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public XExposeEvent.Buffer getWidth(IntBuffer dst) { gather(XExposeEvent.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public XExposeEvent.Buffer getHeight(int[] dst) { gather(XExposeEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public XExposeEvent.Buffer getHeight(IntBuffer dst) { gather(XExposeEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified array. */
+        public XExposeEvent.Buffer getCount(int[] dst) { gather(XExposeEvent.COUNT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified buffer. */
+        public XExposeEvent.Buffer getCount(IntBuffer dst) { gather(XExposeEvent.COUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putType(int[] src) { scatter(XExposeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putType(IntBuffer src) { scatter(XExposeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putX(int[] src) { scatter(XExposeEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putX(IntBuffer src) { scatter(XExposeEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putY(int[] src) { scatter(XExposeEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putY(IntBuffer src) { scatter(XExposeEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putWidth(int[] src) { scatter(XExposeEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putWidth(IntBuffer src) { scatter(XExposeEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putHeight(int[] src) { scatter(XExposeEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putHeight(IntBuffer src) { scatter(XExposeEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code count} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putCount(int[] src) { scatter(XExposeEvent.COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code count} field of the structs between the current position and limit. */
+        public XExposeEvent.Buffer putCount(IntBuffer src) { scatter(XExposeEvent.COUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -266,6 +266,24 @@ public class XFocusChangeEvent extends Struct implements NativeResource {
         return wrap(XFocusChangeEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XFocusChangeEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XFocusChangeEvent malloc(MemoryArena arena) {
+        return wrap(XFocusChangeEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XFocusChangeEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XFocusChangeEvent calloc(MemoryArena arena) {
+        return wrap(XFocusChangeEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XFocusChangeEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -304,6 +322,26 @@ public class XFocusChangeEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XFocusChangeEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XFocusChangeEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XFocusChangeEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XFocusChangeEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -429,6 +467,32 @@ public class XFocusChangeEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code detail} field. */
         public XFocusChangeEvent.Buffer detail(int value) { XFocusChangeEvent.ndetail(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XFocusChangeEvent.Buffer getType(int[] dst) { gather(XFocusChangeEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XFocusChangeEvent.Buffer getType(IntBuffer dst) { gather(XFocusChangeEvent.TYPE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified array. */
+        public XFocusChangeEvent.Buffer getMode(int[] dst) { gather(XFocusChangeEvent.MODE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified buffer. */
+        public XFocusChangeEvent.Buffer getMode(IntBuffer dst) { gather(XFocusChangeEvent.MODE, dst); return this; }
+        /** Copies the {@code detail} field of the structs between the current position and limit to the specified array. */
+        public XFocusChangeEvent.Buffer getDetail(int[] dst) { gather(XFocusChangeEvent.DETAIL, dst); return this; }
+        /** Copies the {@code detail} field of the structs between the current position and limit to the specified buffer. */
+        public XFocusChangeEvent.Buffer getDetail(IntBuffer dst) { gather(XFocusChangeEvent.DETAIL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XFocusChangeEvent.Buffer putType(int[] src) { scatter(XFocusChangeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XFocusChangeEvent.Buffer putType(IntBuffer src) { scatter(XFocusChangeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code mode} field of the structs between the current position and limit. */
+        public XFocusChangeEvent.Buffer putMode(int[] src) { scatter(XFocusChangeEvent.MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mode} field of the structs between the current position and limit. */
+        public XFocusChangeEvent.Buffer putMode(IntBuffer src) { scatter(XFocusChangeEvent.MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code detail} field of the structs between the current position and limit. */
+        public XFocusChangeEvent.Buffer putDetail(int[] src) { scatter(XFocusChangeEvent.DETAIL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code detail} field of the structs between the current position and limit. */
+        public XFocusChangeEvent.Buffer putDetail(IntBuffer src) { scatter(XFocusChangeEvent.DETAIL, src); return this; }
+
     }
 
 }
\ No newline at end of file
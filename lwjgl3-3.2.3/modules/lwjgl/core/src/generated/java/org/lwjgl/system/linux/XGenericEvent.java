@@ -256,6 +256,24 @@ public class XGenericEvent extends Struct implements NativeResource {
         return wrap(XGenericEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XGenericEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGenericEvent malloc(MemoryArena arena) {
+        return wrap(XGenericEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XGenericEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGenericEvent calloc(MemoryArena arena) {
+        return wrap(XGenericEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XGenericEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class XGenericEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XGenericEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGenericEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XGenericEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGenericEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -410,6 +448,32 @@ public class XGenericEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code evtype} field. */
         public XGenericEvent.Buffer evtype(int value) { XGenericEvent.nevtype(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XGenericEvent.Buffer getType(int[] dst) { gather(XGenericEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEvent.Buffer getType(IntBuffer dst) { gather(XGenericEvent.TYPE, dst); return this; }
+        /** Copies the {@code extension} field of the structs between the current position and limit to the specified array. */
+        public XGenericEvent.Buffer getExtension(int[] dst) { gather(XGenericEvent.EXTENSION, dst); return this; }
+        /** Copies the {@code extension} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEvent.Buffer getExtension(IntBuffer dst) { gather(XGenericEvent.EXTENSION, dst); return this; }
+        /** Copies the {@code evtype} field of the structs between the current position and limit to the specified array. */
+        public XGenericEvent.Buffer getEvtype(int[] dst) { gather(XGenericEvent.EVTYPE, dst); return this; }
+        /** Copies the {@code evtype} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEvent.Buffer getEvtype(IntBuffer dst) { gather(XGenericEvent.EVTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XGenericEvent.Buffer putType(int[] src) { scatter(XGenericEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XGenericEvent.Buffer putType(IntBuffer src) { scatter(XGenericEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code extension} field of the structs between the current position and limit. */
+        public XGenericEvent.Buffer putExtension(int[] src) { scatter(XGenericEvent.EXTENSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code extension} field of the structs between the current position and limit. */
+        public XGenericEvent.Buffer putExtension(IntBuffer src) { scatter(XGenericEvent.EXTENSION, src); return this; }
+        /** Copies the values in the specified array to the {@code evtype} field of the structs between the current position and limit. */
+        public XGenericEvent.Buffer putEvtype(int[] src) { scatter(XGenericEvent.EVTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code evtype} field of the structs between the current position and limit. */
+        public XGenericEvent.Buffer putEvtype(IntBuffer src) { scatter(XGenericEvent.EVTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -282,6 +282,24 @@ public class XGenericEventCookie extends Struct implements NativeResource {
         return wrap(XGenericEventCookie.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XGenericEventCookie} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGenericEventCookie malloc(MemoryArena arena) {
+        return wrap(XGenericEventCookie.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XGenericEventCookie} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGenericEventCookie calloc(MemoryArena arena) {
+        return wrap(XGenericEventCookie.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XGenericEventCookie.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -320,6 +338,26 @@ public class XGenericEventCookie extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XGenericEventCookie.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGenericEventCookie.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XGenericEventCookie.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGenericEventCookie.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -459,6 +497,40 @@ public class XGenericEventCookie extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code data} field. */
         public XGenericEventCookie.Buffer data(@NativeType("void *") ByteBuffer value) { XGenericEventCookie.ndata(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XGenericEventCookie.Buffer getType(int[] dst) { gather(XGenericEventCookie.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEventCookie.Buffer getType(IntBuffer dst) { gather(XGenericEventCookie.TYPE, dst); return this; }
+        /** Copies the {@code extension} field of the structs between the current position and limit to the specified array. */
+        public XGenericEventCookie.Buffer getExtension(int[] dst) { gather(XGenericEventCookie.EXTENSION, dst); return this; }
+        /** Copies the {@code extension} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEventCookie.Buffer getExtension(IntBuffer dst) { gather(XGenericEventCookie.EXTENSION, dst); return this; }
+        /** Copies the {@code evtype} field of the structs between the current position and limit to the specified array. */
+        public XGenericEventCookie.Buffer getEvtype(int[] dst) { gather(XGenericEventCookie.EVTYPE, dst); return this; }
+        /** Copies the {@code evtype} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEventCookie.Buffer getEvtype(IntBuffer dst) { gather(XGenericEventCookie.EVTYPE, dst); return this; }
+        /** Copies the {@code cookie} field of the structs between the current position and limit to the specified array. */
+        public XGenericEventCookie.Buffer getCookie(int[] dst) { gather(XGenericEventCookie.COOKIE, dst); return this; }
+        /** Copies the {@code cookie} field of the structs between the current position and limit to the specified buffer. */
+        public XGenericEventCookie.Buffer getCookie(IntBuffer dst) { gather(XGenericEventCookie.COOKIE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putType(int[] src) { scatter(XGenericEventCookie.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putType(IntBuffer src) { scatter(XGenericEventCookie.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code extension} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putExtension(int[] src) { scatter(XGenericEventCookie.EXTENSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code extension} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putExtension(IntBuffer src) { scatter(XGenericEventCookie.EXTENSION, src); return this; }
+        /** Copies the values in the specified array to the {@code evtype} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putEvtype(int[] src) { scatter(XGenericEventCookie.EVTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code evtype} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putEvtype(IntBuffer src) { scatter(XGenericEventCookie.EVTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code cookie} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putCookie(int[] src) { scatter(XGenericEventCookie.COOKIE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cookie} field of the structs between the current position and limit. */
+        public XGenericEventCookie.Buffer putCookie(IntBuffer src) { scatter(XGenericEventCookie.COOKIE, src); return this; }
+
     }
 
 }
\ No newline at end of file
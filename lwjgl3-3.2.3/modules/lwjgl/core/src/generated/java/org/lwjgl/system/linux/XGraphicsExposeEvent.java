@@ -315,6 +315,24 @@ public class XGraphicsExposeEvent extends Struct implements NativeResource {
         return wrap(XGraphicsExposeEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XGraphicsExposeEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGraphicsExposeEvent malloc(MemoryArena arena) {
+        return wrap(XGraphicsExposeEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XGraphicsExposeEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGraphicsExposeEvent calloc(MemoryArena arena) {
+        return wrap(XGraphicsExposeEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XGraphicsExposeEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -353,6 +371,26 @@ public class XGraphicsExposeEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XGraphicsExposeEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGraphicsExposeEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XGraphicsExposeEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGraphicsExposeEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -518,6 +556,72 @@ public class XGraphicsExposeEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code minor_code} field. */
         public XGraphicsExposeEvent.Buffer minor_code(int value) { XGraphicsExposeEvent.nminor_code(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getType(int[] dst) { gather(XGraphicsExposeEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getType(IntBuffer dst) { gather(XGraphicsExposeEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getX(int[] dst) { gather(XGraphicsExposeEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getX(IntBuffer dst) { gather(XGraphicsExposeEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getY(int[] dst) { gather(XGraphicsExposeEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getY(IntBuffer dst) { gather(XGraphicsExposeEvent.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getWidth(int[] dst) { gather(XGraphicsExposeEvent.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getWidth(IntBuffer dst) { gather(XGraphicsExposeEvent.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getHeight(int[] dst) { gather(XGraphicsExposeEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getHeight(IntBuffer dst) { gather(XGraphicsExposeEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getCount(int[] dst) { gather(XGraphicsExposeEvent.COUNT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getCount(IntBuffer dst) { gather(XGraphicsExposeEvent.COUNT, dst); return this; }
+        /** Copies the {@code major_code} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getMajor_code(int[] dst) { gather(XGraphicsExposeEvent.MAJOR_CODE, dst); return this; }
+        /** Copies the {@code major_code} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getMajor_code(IntBuffer dst) { gather(XGraphicsExposeEvent.MAJOR_CODE, dst); return this; }
+        /** Copies the {@code minor_code} field of the structs between the current position and limit to the specified array. */
+        public XGraphicsExposeEvent.Buffer getMinor_code(int[] dst) { gather(XGraphicsExposeEvent.MINOR_CODE, dst); return this; }
+        /** Copies the {@code minor_code} field of the structs between the current position and limit to the specified buffer. */
+        public XGraphicsExposeEvent.Buffer getMinor_code(IntBuffer dst) { gather(XGraphicsExposeEvent.MINOR_CODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putType(int[] src) { scatter(XGraphicsExposeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putType(IntBuffer src) { scatter(XGraphicsExposeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putX(int[] src) { scatter(XGraphicsExposeEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putX(IntBuffer src) { scatter(XGraphicsExposeEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putY(int[] src) { scatter(XGraphicsExposeEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putY(IntBuffer src) { scatter(XGraphicsExposeEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putWidth(int[] src) { scatter(XGraphicsExposeEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putWidth(IntBuffer src) { scatter(XGraphicsExposeEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putHeight(int[] src) { scatter(XGraphicsExposeEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putHeight(IntBuffer src) { scatter(XGraphicsExposeEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code count} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putCount(int[] src) { scatter(XGraphicsExposeEvent.COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code count} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putCount(IntBuffer src) { scatter(XGraphicsExposeEvent.COUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code major_code} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putMajor_code(int[] src) { scatter(XGraphicsExposeEvent.MAJOR_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code major_code} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putMajor_code(IntBuffer src) { scatter(XGraphicsExposeEvent.MAJOR_CODE, src); return this; }
+        /** Copies the values in the specified array to the {@code minor_code} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putMinor_code(int[] src) { scatter(XGraphicsExposeEvent.MINOR_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minor_code} field of the structs between the current position and limit. */
+        public XGraphicsExposeEvent.Buffer putMinor_code(IntBuffer src) { scatter(XGraphicsExposeEvent.MINOR_CODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -273,6 +273,24 @@ public class XGravityEvent extends Struct implements NativeResource {
         return wrap(XGravityEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XGravityEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGravityEvent malloc(MemoryArena arena) {
+        return wrap(XGravityEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XGravityEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XGravityEvent calloc(MemoryArena arena) {
+        return wrap(XGravityEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XGravityEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -311,6 +329,26 @@ public class XGravityEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XGravityEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGravityEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XGravityEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XGravityEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -445,6 +483,32 @@ public class XGravityEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public XGravityEvent.Buffer y(int value) { XGravityEvent.ny(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XGravityEvent.Buffer getType(int[] dst) { gather(XGravityEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XGravityEvent.Buffer getType(IntBuffer dst) { gather(XGravityEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XGravityEvent.Buffer getX(int[] dst) { gather(XGravityEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XGravityEvent.Buffer getX(IntBuffer dst) { gather(XGravityEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XGravityEvent.Buffer getY(int[] dst) { gather(XGravityEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XGravityEvent.Buffer getY(IntBuffer dst) { gather(XGravityEvent.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XGravityEvent.Buffer putType(int[] src) { scatter(XGravityEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XGravityEvent.Buffer putType(IntBuffer src) { scatter(XGravityEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XGravityEvent.Buffer putX(int[] src) { scatter(XGravityEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XGravityEvent.Buffer putX(IntBuffer src) { scatter(XGravityEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XGravityEvent.Buffer putY(int[] src) { scatter(XGravityEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XGravityEvent.Buffer putY(IntBuffer src) { scatter(XGravityEvent.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -362,6 +362,24 @@ public class XKeyEvent extends Struct implements NativeResource {
         return wrap(XKeyEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XKeyEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XKeyEvent malloc(MemoryArena arena) {
+        return wrap(XKeyEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XKeyEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XKeyEvent calloc(MemoryArena arena) {
+        return wrap(XKeyEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XKeyEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -400,6 +418,26 @@ public class XKeyEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XKeyEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XKeyEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XKeyEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XKeyEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -595,6 +633,64 @@ public class XKeyEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code same_screen} field. */
         public XKeyEvent.Buffer same_screen(@NativeType("Bool") boolean value) { XKeyEvent.nsame_screen(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getType(int[] dst) { gather(XKeyEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getType(IntBuffer dst) { gather(XKeyEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getX(int[] dst) { gather(XKeyEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getX(IntBuffer dst) { gather(XKeyEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getY(int[] dst) { gather(XKeyEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getY(IntBuffer dst) { gather(XKeyEvent.Y, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getX_root(int[] dst) { gather(XKeyEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getX_root(IntBuffer dst) { gather(XKeyEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getY_root(int[] dst) { gather(XKeyEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getY_root(IntBuffer dst) { gather(XKeyEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getState(int[] dst) { gather(XKeyEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getState(IntBuffer dst) { gather(XKeyEvent.STATE, dst); return this; }
+        /** Copies the {@code keycode} field of the structs between the current position and limit to the specified array. */
+        public XKeyEvent.Buffer getKeycode(int[] dst) { gather(XKeyEvent.KEYCODE, dst); return this; }
+        /** Copies the {@code keycode} field of the structs between the current position and limit to the specified buffer. */
+        public XKeyEvent.Buffer getKeycode(IntBuffer dst) { gather(XKeyEvent.KEYCODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putType(int[] src) { scatter(XKeyEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putType(IntBuffer src) { scatter(XKeyEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putX(int[] src) { scatter(XKeyEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putX(IntBuffer src) { scatter(XKeyEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putY(int[] src) { scatter(XKeyEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putY(IntBuffer src) { scatter(XKeyEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code x_root} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putX_root(int[] src) { scatter(XKeyEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x_root} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putX_root(IntBuffer src) { scatter(XKeyEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code y_root} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putY_root(int[] src) { scatter(XKeyEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y_root} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putY_root(IntBuffer src) { scatter(XKeyEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putState(int[] src) { scatter(XKeyEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putState(IntBuffer src) { scatter(XKeyEvent.STATE, src); return this; }
+        /** Copies the values in the specified array to the {@code keycode} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putKeycode(int[] src) { scatter(XKeyEvent.KEYCODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code keycode} field of the structs between the current position and limit. */
+        public XKeyEvent.Buffer putKeycode(IntBuffer src) { scatter(XKeyEvent.KEYCODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -261,6 +261,24 @@ public class XKeymapEvent extends Struct implements NativeResource {
         return wrap(XKeymapEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XKeymapEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XKeymapEvent malloc(MemoryArena arena) {
+        return wrap(XKeymapEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XKeymapEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XKeymapEvent calloc(MemoryArena arena) {
+        return wrap(XKeymapEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XKeymapEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class XKeymapEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XKeymapEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XKeymapEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XKeymapEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XKeymapEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -433,6 +471,16 @@ public class XKeymapEvent extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code key_vector} field. */
         public XKeymapEvent.Buffer key_vector(int index, @NativeType("char") byte value) { XKeymapEvent.nkey_vector(address(), index, value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XKeymapEvent.Buffer getType(int[] dst) { gather(XKeymapEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XKeymapEvent.Buffer getType(IntBuffer dst) { gather(XKeymapEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XKeymapEvent.Buffer putType(int[] src) { scatter(XKeymapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XKeymapEvent.Buffer putType(IntBuffer src) { scatter(XKeymapEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
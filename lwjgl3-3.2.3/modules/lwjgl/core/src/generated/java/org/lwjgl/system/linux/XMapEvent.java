@@ -264,6 +264,24 @@ public class XMapEvent extends Struct implements NativeResource {
         return wrap(XMapEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XMapEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMapEvent malloc(MemoryArena arena) {
+        return wrap(XMapEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XMapEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMapEvent calloc(MemoryArena arena) {
+        return wrap(XMapEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XMapEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class XMapEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XMapEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMapEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XMapEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMapEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -428,6 +466,24 @@ public class XMapEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code override_redirect} field. */
         public XMapEvent.Buffer override_redirect(int value) { XMapEvent.noverride_redirect(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XMapEvent.Buffer getType(int[] dst) { gather(XMapEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XMapEvent.Buffer getType(IntBuffer dst) { gather(XMapEvent.TYPE, dst); return this; }
+        /** Copies the {@code override_redirect} field of the structs between the current position and limit to the specified array. */
+        public XMapEvent.Buffer getOverride_redirect(int[] dst) { gather(XMapEvent.OVERRIDE_REDIRECT, dst); return this; }
+        /** Copies the {@code override_redirect} field of the structs between the current position and limit to the specified buffer. */
+        public XMapEvent.Buffer getOverride_redirect(IntBuffer dst) { gather(XMapEvent.OVERRIDE_REDIRECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XMapEvent.Buffer putType(int[] src) { scatter(XMapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XMapEvent.Buffer putType(IntBuffer src) { scatter(XMapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code override_redirect} field of the structs between the current position and limit. */
+        public XMapEvent.Buffer putOverride_redirect(int[] src) { scatter(XMapEvent.OVERRIDE_REDIRECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code override_redirect} field of the structs between the current position and limit. */
+        public XMapEvent.Buffer putOverride_redirect(IntBuffer src) { scatter(XMapEvent.OVERRIDE_REDIRECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
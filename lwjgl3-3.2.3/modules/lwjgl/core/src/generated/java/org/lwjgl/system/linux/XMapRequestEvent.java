@@ -253,6 +253,24 @@ public class XMapRequestEvent extends Struct implements NativeResource {
         return wrap(XMapRequestEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XMapRequestEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMapRequestEvent malloc(MemoryArena arena) {
+        return wrap(XMapRequestEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XMapRequestEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMapRequestEvent calloc(MemoryArena arena) {
+        return wrap(XMapRequestEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XMapRequestEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class XMapRequestEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XMapRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMapRequestEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XMapRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMapRequestEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -409,6 +447,16 @@ public class XMapRequestEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code window} field. */
         public XMapRequestEvent.Buffer window(@NativeType("Window") long value) { XMapRequestEvent.nwindow(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XMapRequestEvent.Buffer getType(int[] dst) { gather(XMapRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XMapRequestEvent.Buffer getType(IntBuffer dst) { gather(XMapRequestEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XMapRequestEvent.Buffer putType(int[] src) { scatter(XMapRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XMapRequestEvent.Buffer putType(IntBuffer src) { scatter(XMapRequestEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
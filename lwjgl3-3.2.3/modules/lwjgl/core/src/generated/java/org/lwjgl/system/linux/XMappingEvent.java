@@ -276,6 +276,24 @@ public class XMappingEvent extends Struct implements NativeResource {
         return wrap(XMappingEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XMappingEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMappingEvent malloc(MemoryArena arena) {
+        return wrap(XMappingEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XMappingEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMappingEvent calloc(MemoryArena arena) {
+        return wrap(XMappingEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XMappingEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -314,6 +332,26 @@ public class XMappingEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XMappingEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMappingEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XMappingEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMappingEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -447,6 +485,40 @@ public class XMappingEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code count} field. */
         public XMappingEvent.Buffer count(int value) { XMappingEvent.ncount(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XMappingEvent.Buffer getType(int[] dst) { gather(XMappingEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XMappingEvent.Buffer getType(IntBuffer dst) { gather(XMappingEvent.TYPE, dst); return this; }
+        /** Copies the {@code request} field of the structs between the current position and limit to the specified array. */
+        public XMappingEvent.Buffer getRequest(int[] dst) { gather(XMappingEvent.REQUEST, dst); return this; }
+        /** Copies the {@code request} field of the structs between the current position and limit to the specified buffer. */
+        public XMappingEvent.Buffer getRequest(IntBuffer dst) { gather(XMappingEvent.REQUEST, dst); return this; }
+        /** Copies the {@code first_keycode} field of the structs between the current position and limit to the specified array. */
+        public XMappingEvent.Buffer getFirst_keycode(int[] dst) { gather(XMappingEvent.FIRST_KEYCODE, dst); return this; }
+        /** Copies the {@code first_keycode} field of the structs between the current position and limit to the specified buffer. */
+        public XMappingEvent.Buffer getFirst_keycode(IntBuffer dst) { gather(XMappingEvent.FIRST_KEYCODE, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified array. */
+        public XMappingEvent.Buffer getCount(int[] dst) { gather(XMappingEvent.COUNT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified buffer. */
+        public XMappingEvent.Buffer getCount(IntBuffer dst) { gather(XMappingEvent.COUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putType(int[] src) { scatter(XMappingEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putType(IntBuffer src) { scatter(XMappingEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code request} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putRequest(int[] src) { scatter(XMappingEvent.REQUEST, src); return this; }
+        /** Copies the values in the specified buffer to the {@code request} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putRequest(IntBuffer src) { scatter(XMappingEvent.REQUEST, src); return this; }
+        /** Copies the values in the specified array to the {@code first_keycode} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putFirst_keycode(int[] src) { scatter(XMappingEvent.FIRST_KEYCODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code first_keycode} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putFirst_keycode(IntBuffer src) { scatter(XMappingEvent.FIRST_KEYCODE, src); return this; }
+        /** Copies the values in the specified array to the {@code count} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putCount(int[] src) { scatter(XMappingEvent.COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code count} field of the structs between the current position and limit. */
+        public XMappingEvent.Buffer putCount(IntBuffer src) { scatter(XMappingEvent.COUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
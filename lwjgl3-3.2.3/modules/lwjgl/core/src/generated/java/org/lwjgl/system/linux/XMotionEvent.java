@@ -362,6 +362,24 @@ public class XMotionEvent extends Struct implements NativeResource {
         return wrap(XMotionEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XMotionEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMotionEvent malloc(MemoryArena arena) {
+        return wrap(XMotionEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XMotionEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XMotionEvent calloc(MemoryArena arena) {
+        return wrap(XMotionEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XMotionEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -400,6 +418,26 @@ public class XMotionEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XMotionEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMotionEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XMotionEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XMotionEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -595,6 +633,64 @@ public class XMotionEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code same_screen} field. */
         public XMotionEvent.Buffer same_screen(@NativeType("Bool") boolean value) { XMotionEvent.nsame_screen(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getType(int[] dst) { gather(XMotionEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getType(IntBuffer dst) { gather(XMotionEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getX(int[] dst) { gather(XMotionEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getX(IntBuffer dst) { gather(XMotionEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getY(int[] dst) { gather(XMotionEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getY(IntBuffer dst) { gather(XMotionEvent.Y, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getX_root(int[] dst) { gather(XMotionEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code x_root} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getX_root(IntBuffer dst) { gather(XMotionEvent.X_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getY_root(int[] dst) { gather(XMotionEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code y_root} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getY_root(IntBuffer dst) { gather(XMotionEvent.Y_ROOT, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getState(int[] dst) { gather(XMotionEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getState(IntBuffer dst) { gather(XMotionEvent.STATE, dst); return this; }
+        /** Copies the {@code is_hint} field of the structs between the current position and limit to the specified array. */
+        public XMotionEvent.Buffer getIs_hint(byte[] dst) { gather(XMotionEvent.IS_HINT, dst); return this; }
+        /** Copies the {@code is_hint} field of the structs between the current position and limit to the specified buffer. */
+        public XMotionEvent.Buffer getIs_hint(ByteBuffer dst) { gather(XMotionEvent.IS_HINT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putType(int[] src) { scatter(XMotionEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putType(IntBuffer src) { scatter(XMotionEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putX(int[] src) { scatter(XMotionEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putX(IntBuffer src) { scatter(XMotionEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putY(int[] src) { scatter(XMotionEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putY(IntBuffer src) { scatter(XMotionEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code x_root} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putX_root(int[] src) { scatter(XMotionEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x_root} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putX_root(IntBuffer src) { scatter(XMotionEvent.X_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code y_root} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putY_root(int[] src) { scatter(XMotionEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y_root} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putY_root(IntBuffer src) { scatter(XMotionEvent.Y_ROOT, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putState(int[] src) { scatter(XMotionEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putState(IntBuffer src) { scatter(XMotionEvent.STATE, src); return this; }
+        /** Copies the values in the specified array to the {@code is_hint} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putIs_hint(byte[] src) { scatter(XMotionEvent.IS_HINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code is_hint} field of the structs between the current position and limit. */
+        public XMotionEvent.Buffer putIs_hint(ByteBuffer src) { scatter(XMotionEvent.IS_HINT, src); return this; }
+
     }
 
 }
\ No newline at end of file
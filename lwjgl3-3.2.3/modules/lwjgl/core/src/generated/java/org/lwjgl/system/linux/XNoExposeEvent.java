@@ -264,6 +264,24 @@ public class XNoExposeEvent extends Struct implements NativeResource {
         return wrap(XNoExposeEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XNoExposeEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XNoExposeEvent malloc(MemoryArena arena) {
+        return wrap(XNoExposeEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XNoExposeEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XNoExposeEvent calloc(MemoryArena arena) {
+        return wrap(XNoExposeEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XNoExposeEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class XNoExposeEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XNoExposeEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XNoExposeEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XNoExposeEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XNoExposeEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -427,6 +465,32 @@ public class XNoExposeEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code minor_code} field. */
         public XNoExposeEvent.Buffer minor_code(int value) { XNoExposeEvent.nminor_code(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XNoExposeEvent.Buffer getType(int[] dst) { gather(XNoExposeEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XNoExposeEvent.Buffer getType(IntBuffer dst) { gather(XNoExposeEvent.TYPE, dst); return this; }
+        /** Copies the {@code major_code} field of the structs between the current position and limit to the specified array. */
+        public XNoExposeEvent.Buffer getMajor_code(int[] dst) { gather(XNoExposeEvent.MAJOR_CODE, dst); return this; }
+        /** Copies the {@code major_code} field of the structs between the current position and limit to the specified buffer. */
+        public XNoExposeEvent.Buffer getMajor_code(IntBuffer dst) { gather(XNoExposeEvent.MAJOR_CODE, dst); return this; }
+        /** Copies the {@code minor_code} field of the structs between the current position and limit to the specified array. */
+        public XNoExposeEvent.Buffer getMinor_code(int[] dst) { gather(XNoExposeEvent.MINOR_CODE, dst); return this; }
+        /** Copies the {@code minor_code} field of the structs between the current position and limit to the specified buffer. */
+        public XNoExposeEvent.Buffer getMinor_code(IntBuffer dst) { gather(XNoExposeEvent.MINOR_CODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XNoExposeEvent.Buffer putType(int[] src) { scatter(XNoExposeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XNoExposeEvent.Buffer putType(IntBuffer src) { scatter(XNoExposeEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code major_code} field of the structs between the current position and limit. */
+        public XNoExposeEvent.Buffer putMajor_code(int[] src) { scatter(XNoExposeEvent.MAJOR_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code major_code} field of the structs between the current position and limit. */
+        public XNoExposeEvent.Buffer putMajor_code(IntBuffer src) { scatter(XNoExposeEvent.MAJOR_CODE, src); return this; }
+        /** Copies the values in the specified array to the {@code minor_code} field of the structs between the current position and limit. */
+        public XNoExposeEvent.Buffer putMinor_code(int[] src) { scatter(XNoExposeEvent.MINOR_CODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minor_code} field of the structs between the current position and limit. */
+        public XNoExposeEvent.Buffer putMinor_code(IntBuffer src) { scatter(XNoExposeEvent.MINOR_CODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -278,6 +278,24 @@ public class XPropertyEvent extends Struct implements NativeResource {
         return wrap(XPropertyEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XPropertyEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XPropertyEvent malloc(MemoryArena arena) {
+        return wrap(XPropertyEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XPropertyEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XPropertyEvent calloc(MemoryArena arena) {
+        return wrap(XPropertyEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XPropertyEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -316,6 +334,26 @@ public class XPropertyEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XPropertyEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XPropertyEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XPropertyEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XPropertyEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -451,6 +489,24 @@ public class XPropertyEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code state} field. */
         public XPropertyEvent.Buffer state(int value) { XPropertyEvent.nstate(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XPropertyEvent.Buffer getType(int[] dst) { gather(XPropertyEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XPropertyEvent.Buffer getType(IntBuffer dst) { gather(XPropertyEvent.TYPE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XPropertyEvent.Buffer getState(int[] dst) { gather(XPropertyEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XPropertyEvent.Buffer getState(IntBuffer dst) { gather(XPropertyEvent.STATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XPropertyEvent.Buffer putType(int[] src) { scatter(XPropertyEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XPropertyEvent.Buffer putType(IntBuffer src) { scatter(XPropertyEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XPropertyEvent.Buffer putState(int[] src) { scatter(XPropertyEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XPropertyEvent.Buffer putState(IntBuffer src) { scatter(XPropertyEvent.STATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
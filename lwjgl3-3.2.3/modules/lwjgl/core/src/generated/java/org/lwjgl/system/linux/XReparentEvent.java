@@ -294,6 +294,24 @@ public class XReparentEvent extends Struct implements NativeResource {
         return wrap(XReparentEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XReparentEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XReparentEvent malloc(MemoryArena arena) {
+        return wrap(XReparentEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XReparentEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XReparentEvent calloc(MemoryArena arena) {
+        return wrap(XReparentEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XReparentEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -332,6 +350,26 @@ public class XReparentEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XReparentEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XReparentEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XReparentEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XReparentEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -483,6 +521,40 @@ public class XReparentEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code override_redirect} field. */
         public XReparentEvent.Buffer override_redirect(int value) { XReparentEvent.noverride_redirect(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XReparentEvent.Buffer getType(int[] dst) { gather(XReparentEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XReparentEvent.Buffer getType(IntBuffer dst) { gather(XReparentEvent.TYPE, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XReparentEvent.Buffer getX(int[] dst) { gather(XReparentEvent.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XReparentEvent.Buffer getX(IntBuffer dst) { gather(XReparentEvent.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XReparentEvent.Buffer getY(int[] dst) { gather(XReparentEvent.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XReparentEvent.Buffer getY(IntBuffer dst) { gather(XReparentEvent.Y, dst); return this; }
+        /** Copies the {@code override_redirect} field of the structs between the current position and limit to the specified array. */
+        public XReparentEvent.Buffer getOverride_redirect(int[] dst) { gather(XReparentEvent.OVERRIDE_REDIRECT, dst); return this; }
+        /** Copies the {@code override_redirect} field of the structs between the current position and limit to the specified buffer. */
+        public XReparentEvent.Buffer getOverride_redirect(IntBuffer dst) { gather(XReparentEvent.OVERRIDE_REDIRECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putType(int[] src) { scatter(XReparentEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putType(IntBuffer src) { scatter(XReparentEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putX(int[] src) { scatter(XReparentEvent.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putX(IntBuffer src) { scatter(XReparentEvent.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putY(int[] src) { scatter(XReparentEvent.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putY(IntBuffer src) { scatter(XReparentEvent.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code override_redirect} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putOverride_redirect(int[] src) { scatter(XReparentEvent.OVERRIDE_REDIRECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code override_redirect} field of the structs between the current position and limit. */
+        public XReparentEvent.Buffer putOverride_redirect(IntBuffer src) { scatter(XReparentEvent.OVERRIDE_REDIRECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
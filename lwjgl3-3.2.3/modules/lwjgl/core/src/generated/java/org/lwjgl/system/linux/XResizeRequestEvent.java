@@ -263,6 +263,24 @@ public class XResizeRequestEvent extends Struct implements NativeResource {
         return wrap(XResizeRequestEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XResizeRequestEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XResizeRequestEvent malloc(MemoryArena arena) {
+        return wrap(XResizeRequestEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XResizeRequestEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XResizeRequestEvent calloc(MemoryArena arena) {
+        return wrap(XResizeRequestEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XResizeRequestEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class XResizeRequestEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XResizeRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XResizeRequestEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XResizeRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XResizeRequestEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -426,6 +464,32 @@ public class XResizeRequestEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code height} field. */
         public XResizeRequestEvent.Buffer height(int value) { XResizeRequestEvent.nheight(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XResizeRequestEvent.Buffer getType(int[] dst) { gather(XResizeRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XResizeRequestEvent.Buffer getType(IntBuffer dst) { gather(XResizeRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public XResizeRequestEvent.Buffer getWidth(int[] dst) { gather(XResizeRequestEvent.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public XResizeRequestEvent.Buffer getWidth(IntBuffer dst) { gather(XResizeRequestEvent.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public XResizeRequestEvent.Buffer getHeight(int[] dst) { gather(XResizeRequestEvent.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public XResizeRequestEvent.Buffer getHeight(IntBuffer dst) { gather(XResizeRequestEvent.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XResizeRequestEvent.Buffer putType(int[] src) { scatter(XResizeRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XResizeRequestEvent.Buffer putType(IntBuffer src) { scatter(XResizeRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public XResizeRequestEvent.Buffer putWidth(int[] src) { scatter(XResizeRequestEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public XResizeRequestEvent.Buffer putWidth(IntBuffer src) { scatter(XResizeRequestEvent.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public XResizeRequestEvent.Buffer putHeight(int[] src) { scatter(XResizeRequestEvent.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public XResizeRequestEvent.Buffer putHeight(IntBuffer src) { scatter(XResizeRequestEvent.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -265,6 +265,24 @@ public class XSelectionClearEvent extends Struct implements NativeResource {
         return wrap(XSelectionClearEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XSelectionClearEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSelectionClearEvent malloc(MemoryArena arena) {
+        return wrap(XSelectionClearEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XSelectionClearEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSelectionClearEvent calloc(MemoryArena arena) {
+        return wrap(XSelectionClearEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XSelectionClearEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class XSelectionClearEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XSelectionClearEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSelectionClearEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XSelectionClearEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSelectionClearEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -430,6 +468,16 @@ public class XSelectionClearEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code time} field. */
         public XSelectionClearEvent.Buffer time(@NativeType("Time") long value) { XSelectionClearEvent.ntime(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XSelectionClearEvent.Buffer getType(int[] dst) { gather(XSelectionClearEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XSelectionClearEvent.Buffer getType(IntBuffer dst) { gather(XSelectionClearEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XSelectionClearEvent.Buffer putType(int[] src) { scatter(XSelectionClearEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XSelectionClearEvent.Buffer putType(IntBuffer src) { scatter(XSelectionClearEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -289,6 +289,24 @@ public class XSelectionEvent extends Struct implements NativeResource {
         return wrap(XSelectionEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XSelectionEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSelectionEvent malloc(MemoryArena arena) {
+        return wrap(XSelectionEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XSelectionEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSelectionEvent calloc(MemoryArena arena) {
+        return wrap(XSelectionEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XSelectionEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class XSelectionEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XSelectionEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSelectionEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XSelectionEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSelectionEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -472,6 +510,16 @@ public class XSelectionEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code time} field. */
         public XSelectionEvent.Buffer time(@NativeType("Time") long value) { XSelectionEvent.ntime(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XSelectionEvent.Buffer getType(int[] dst) { gather(XSelectionEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XSelectionEvent.Buffer getType(IntBuffer dst) { gather(XSelectionEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XSelectionEvent.Buffer putType(int[] src) { scatter(XSelectionEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XSelectionEvent.Buffer putType(IntBuffer src) { scatter(XSelectionEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
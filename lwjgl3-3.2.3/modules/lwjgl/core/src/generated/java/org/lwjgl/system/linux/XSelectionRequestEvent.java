@@ -299,6 +299,24 @@ public class XSelectionRequestEvent extends Struct implements NativeResource {
         return wrap(XSelectionRequestEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XSelectionRequestEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSelectionRequestEvent malloc(MemoryArena arena) {
+        return wrap(XSelectionRequestEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XSelectionRequestEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSelectionRequestEvent calloc(MemoryArena arena) {
+        return wrap(XSelectionRequestEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XSelectionRequestEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -337,6 +355,26 @@ public class XSelectionRequestEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XSelectionRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSelectionRequestEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XSelectionRequestEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSelectionRequestEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -491,6 +529,16 @@ public class XSelectionRequestEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code time} field. */
         public XSelectionRequestEvent.Buffer time(@NativeType("Time") long value) { XSelectionRequestEvent.ntime(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XSelectionRequestEvent.Buffer getType(int[] dst) { gather(XSelectionRequestEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XSelectionRequestEvent.Buffer getType(IntBuffer dst) { gather(XSelectionRequestEvent.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XSelectionRequestEvent.Buffer putType(int[] src) { scatter(XSelectionRequestEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XSelectionRequestEvent.Buffer putType(IntBuffer src) { scatter(XSelectionRequestEvent.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -341,6 +341,24 @@ public class XSetWindowAttributes extends Struct implements NativeResource {
         return wrap(XSetWindowAttributes.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XSetWindowAttributes} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSetWindowAttributes malloc(MemoryArena arena) {
+        return wrap(XSetWindowAttributes.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XSetWindowAttributes} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XSetWindowAttributes calloc(MemoryArena arena) {
+        return wrap(XSetWindowAttributes.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XSetWindowAttributes.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -379,6 +397,26 @@ public class XSetWindowAttributes extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XSetWindowAttributes.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSetWindowAttributes.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XSetWindowAttributes.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XSetWindowAttributes.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #background_pixmap}. */
@@ -553,6 +591,32 @@ public class XSetWindowAttributes extends Struct implements NativeResource {
         /** Sets the specified value to the {@code cursor} field. */
         public XSetWindowAttributes.Buffer cursor(@NativeType("Cursor") long value) { XSetWindowAttributes.ncursor(address(), value); return this; }
 
+        /** Copies the {@code bit_gravity} field of the structs between the current position and limit to the specified array. */
+        public XSetWindowAttributes.Buffer getBit_gravity(int[] dst) { gather(XSetWindowAttributes.BIT_GRAVITY, dst); return this; }
+        /** Copies the {@code bit_gravity} field of the structs between the current position and limit to the specified buffer. */
+        public XSetWindowAttributes.Buffer getBit_gravity(IntBuffer dst) { gather(XSetWindowAttributes.BIT_GRAVITY, dst); return this; }
+        /** Copies the {@code win_gravity} field of the structs between the current position and limit to the specified array. */
+        public XSetWindowAttributes.Buffer getWin_gravity(int[] dst) { gather(XSetWindowAttributes.WIN_GRAVITY, dst); return this; }
+        /** Copies the {@code win_gravity} field of the structs between the current position and limit to the specified buffer. */
+        public XSetWindowAttributes.Buffer getWin_gravity(IntBuffer dst) { gather(XSetWindowAttributes.WIN_GRAVITY, dst); return this; }
+        /** Copies the {@code backing_store} field of the structs between the current position and limit to the specified array. */
+        public XSetWindowAttributes.Buffer getBacking_store(int[] dst) { gather(XSetWindowAttributes.BACKING_STORE, dst); return this; }
+        /** Copies the {@code backing_store} field of the structs between the current position and limit to the specified buffer. */
+        public XSetWindowAttributes.Buffer getBacking_store(IntBuffer dst) { gather(XSetWindowAttributes.BACKING_STORE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code bit_gravity} field of the structs between the current position and limit. */
+        public XSetWindowAttributes.Buffer putBit_gravity(int[] src) { scatter(XSetWindowAttributes.BIT_GRAVITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bit_gravity} field of the structs between the current position and limit. */
+        public XSetWindowAttributes.Buffer putBit_gravity(IntBuffer src) { scatter(XSetWindowAttributes.BIT_GRAVITY, src); return this; }
+        /** Copies the values in the specified array to the {@code win_gravity} field of the structs between the current position and limit. */
+        public XSetWindowAttributes.Buffer putWin_gravity(int[] src) { scatter(XSetWindowAttributes.WIN_GRAVITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code win_gravity} field of the structs between the current position and limit. */
+        public XSetWindowAttributes.Buffer putWin_gravity(IntBuffer src) { scatter(XSetWindowAttributes.WIN_GRAVITY, src); return this; }
+        /** Copies the values in the specified array to the {@code backing_store} field of the structs between the current position and limit. */
+        public XSetWindowAttributes.Buffer putBacking_store(int[] src) { scatter(XSetWindowAttributes.BACKING_STORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code backing_store} field of the structs between the current position and limit. */
+        public XSetWindowAttributes.Buffer putBacking_store(IntBuffer src) { scatter(XSetWindowAttributes.BACKING_STORE, src); return this; }
+
     }
 
 }
\ No newline at end of file
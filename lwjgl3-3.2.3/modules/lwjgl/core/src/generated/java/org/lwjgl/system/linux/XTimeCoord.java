@@ -165,6 +165,15 @@ public class XTimeCoord extends Struct {
         /** Returns the value of the {@code y} field. */
         public short y() { return XTimeCoord.ny(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public XTimeCoord.Buffer getX(short[] dst) { gather(XTimeCoord.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public XTimeCoord.Buffer getX(ShortBuffer dst) { gather(XTimeCoord.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public XTimeCoord.Buffer getY(short[] dst) { gather(XTimeCoord.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public XTimeCoord.Buffer getY(ShortBuffer dst) { gather(XTimeCoord.Y, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -263,6 +263,24 @@ public class XUnmapEvent extends Struct implements NativeResource {
         return wrap(XUnmapEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XUnmapEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XUnmapEvent malloc(MemoryArena arena) {
+        return wrap(XUnmapEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XUnmapEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XUnmapEvent calloc(MemoryArena arena) {
+        return wrap(XUnmapEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XUnmapEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class XUnmapEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XUnmapEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XUnmapEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XUnmapEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XUnmapEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -427,6 +465,24 @@ public class XUnmapEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code from_configure} field. */
         public XUnmapEvent.Buffer from_configure(int value) { XUnmapEvent.nfrom_configure(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XUnmapEvent.Buffer getType(int[] dst) { gather(XUnmapEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XUnmapEvent.Buffer getType(IntBuffer dst) { gather(XUnmapEvent.TYPE, dst); return this; }
+        /** Copies the {@code from_configure} field of the structs between the current position and limit to the specified array. */
+        public XUnmapEvent.Buffer getFrom_configure(int[] dst) { gather(XUnmapEvent.FROM_CONFIGURE, dst); return this; }
+        /** Copies the {@code from_configure} field of the structs between the current position and limit to the specified buffer. */
+        public XUnmapEvent.Buffer getFrom_configure(IntBuffer dst) { gather(XUnmapEvent.FROM_CONFIGURE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XUnmapEvent.Buffer putType(int[] src) { scatter(XUnmapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XUnmapEvent.Buffer putType(IntBuffer src) { scatter(XUnmapEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code from_configure} field of the structs between the current position and limit. */
+        public XUnmapEvent.Buffer putFrom_configure(int[] src) { scatter(XUnmapEvent.FROM_CONFIGURE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code from_configure} field of the structs between the current position and limit. */
+        public XUnmapEvent.Buffer putFrom_configure(IntBuffer src) { scatter(XUnmapEvent.FROM_CONFIGURE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -254,6 +254,24 @@ public class XVisibilityEvent extends Struct implements NativeResource {
         return wrap(XVisibilityEvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XVisibilityEvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XVisibilityEvent malloc(MemoryArena arena) {
+        return wrap(XVisibilityEvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XVisibilityEvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XVisibilityEvent calloc(MemoryArena arena) {
+        return wrap(XVisibilityEvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XVisibilityEvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class XVisibilityEvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XVisibilityEvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XVisibilityEvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XVisibilityEvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XVisibilityEvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -409,6 +447,24 @@ public class XVisibilityEvent extends Struct implements NativeResource {
         /** Sets the specified value to the {@code state} field. */
         public XVisibilityEvent.Buffer state(int value) { XVisibilityEvent.nstate(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public XVisibilityEvent.Buffer getType(int[] dst) { gather(XVisibilityEvent.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public XVisibilityEvent.Buffer getType(IntBuffer dst) { gather(XVisibilityEvent.TYPE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public XVisibilityEvent.Buffer getState(int[] dst) { gather(XVisibilityEvent.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public XVisibilityEvent.Buffer getState(IntBuffer dst) { gather(XVisibilityEvent.STATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public XVisibilityEvent.Buffer putType(int[] src) { scatter(XVisibilityEvent.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public XVisibilityEvent.Buffer putType(IntBuffer src) { scatter(XVisibilityEvent.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code state} field of the structs between the current position and limit. */
+        public XVisibilityEvent.Buffer putState(int[] src) { scatter(XVisibilityEvent.STATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code state} field of the structs between the current position and limit. */
+        public XVisibilityEvent.Buffer putState(IntBuffer src) { scatter(XVisibilityEvent.STATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -287,6 +287,24 @@ public class XVisualInfo extends Struct implements NativeResource {
         return wrap(XVisualInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XVisualInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XVisualInfo malloc(MemoryArena arena) {
+        return wrap(XVisualInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XVisualInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XVisualInfo calloc(MemoryArena arena) {
+        return wrap(XVisualInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XVisualInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -325,6 +343,26 @@ public class XVisualInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XVisualInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XVisualInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XVisualInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XVisualInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #visual}. */
@@ -475,6 +513,48 @@ public class XVisualInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code bits_per_rgb} field. */
         public XVisualInfo.Buffer bits_per_rgb(int value) { XVisualInfo.nbits_per_rgb(address(), value); return this; }
 
+        /** Copies the {@code screen} field of the structs between the current position and limit to the specified array. */
+        public XVisualInfo.Buffer getScreen(int[] dst) { gather(XVisualInfo.SCREEN, dst); return this; }
+        /** Copies the {@code screen} field of the structs between the current position and limit to the specified buffer. */
+        public XVisualInfo.Buffer getScreen(IntBuffer dst) { gather(XVisualInfo.SCREEN, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified array. */
+        public XVisualInfo.Buffer getDepth(int[] dst) { gather(XVisualInfo.DEPTH, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified buffer. */
+        public XVisualInfo.Buffer getDepth(IntBuffer dst) { gather(XVisualInfo.DEPTH, dst); return this; }
+        /** Copies the {@code class} field of the structs between the current position and limit to the specified array. */
+        public XVisualInfo.Buffer getClass(int[] dst) { gather(XVisualInfo.CLASS, dst); return this; }
+        /** Copies the {@code class} field of the structs between the current position and limit to the specified buffer. */
+        public XVisualInfo.Buffer getClass(IntBuffer dst) { gather(XVisualInfo.CLASS, dst); return this; }
+        /** Copies the {@code colormap_size} field of the structs between the current position and limit to the specified array. */
+        public XVisualInfo.Buffer getColormap_size(int[] dst) { gather(XVisualInfo.COLORMAP_SIZE, dst); return this; }
+        /** Copies the {@code colormap_size} field of the structs between the current position and limit to the specified buffer. */
+        public XVisualInfo.Buffer getColormap_size(IntBuffer dst) { gather(XVisualInfo.COLORMAP_SIZE, dst); return this; }
+        /** Copies the {@code bits_per_rgb} field of the structs between the current position and limit to the specified array. */
+        public XVisualInfo.Buffer getBits_per_rgb(int[] dst) { gather(XVisualInfo.BITS_PER_RGB, dst); return this; }
+        /** Copies the {@code bits_per_rgb} field of the structs between the current position and limit to the specified buffer. */
+        public XVisualInfo.Buffer getBits_per_rgb(IntBuffer dst) { gather(XVisualInfo.BITS_PER_RGB, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code screen} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putScreen(int[] src) { scatter(XVisualInfo.SCREEN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code screen} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putScreen(IntBuffer src) { scatter(XVisualInfo.SCREEN, src); return this; }
+        /** Copies the values in the specified array to the {@code depth} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putDepth(int[] src) { scatter(XVisualInfo.DEPTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depth} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putDepth(IntBuffer src) { scatter(XVisualInfo.DEPTH, src); return this; }
+        /** Copies the values in the specified array to the {@code class} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putClass(int[] src) { scatter(XVisualInfo.CLASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code class} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putClass(IntBuffer src) { scatter(XVisualInfo.CLASS, src); return this; }
+        /** Copies the values in the specified array to the {@code colormap_size} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putColormap_size(int[] src) { scatter(XVisualInfo.COLORMAP_SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code colormap_size} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putColormap_size(IntBuffer src) { scatter(XVisualInfo.COLORMAP_SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code bits_per_rgb} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putBits_per_rgb(int[] src) { scatter(XVisualInfo.BITS_PER_RGB, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bits_per_rgb} field of the structs between the current position and limit. */
+        public XVisualInfo.Buffer putBits_per_rgb(IntBuffer src) { scatter(XVisualInfo.BITS_PER_RGB, src); return this; }
+
     }
 
 }
\ No newline at end of file
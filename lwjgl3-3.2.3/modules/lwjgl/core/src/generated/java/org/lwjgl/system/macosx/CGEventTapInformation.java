@@ -242,6 +242,24 @@ public class CGEventTapInformation extends Struct implements NativeResource {
         return wrap(CGEventTapInformation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CGEventTapInformation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CGEventTapInformation malloc(MemoryArena arena) {
+        return wrap(CGEventTapInformation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CGEventTapInformation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CGEventTapInformation calloc(MemoryArena arena) {
+        return wrap(CGEventTapInformation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CGEventTapInformation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -280,6 +298,26 @@ public class CGEventTapInformation extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CGEventTapInformation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CGEventTapInformation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CGEventTapInformation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CGEventTapInformation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #eventTapID}. */
@@ -369,6 +407,35 @@ public class CGEventTapInformation extends Struct implements NativeResource {
         /** Returns the value of the {@code maxUsecLatency} field. */
         public float maxUsecLatency() { return CGEventTapInformation.nmaxUsecLatency(address()); }
 
+        /** Copies the {@code eventTapID} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getEventTapID(int[] dst) { gather(CGEventTapInformation.EVENTTAPID, dst); return this; }
+        /** Copies the {@code eventTapID} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getEventTapID(IntBuffer dst) { gather(CGEventTapInformation.EVENTTAPID, dst); return this; }
+        /** Copies the {@code tapPoint} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getTapPoint(int[] dst) { gather(CGEventTapInformation.TAPPOINT, dst); return this; }
+        /** Copies the {@code tapPoint} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getTapPoint(IntBuffer dst) { gather(CGEventTapInformation.TAPPOINT, dst); return this; }
+        /** Copies the {@code options} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getOptions(int[] dst) { gather(CGEventTapInformation.OPTIONS, dst); return this; }
+        /** Copies the {@code options} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getOptions(IntBuffer dst) { gather(CGEventTapInformation.OPTIONS, dst); return this; }
+        /** Copies the {@code eventsOfInterest} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getEventsOfInterest(long[] dst) { gather(CGEventTapInformation.EVENTSOFINTEREST, dst); return this; }
+        /** Copies the {@code eventsOfInterest} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getEventsOfInterest(LongBuffer dst) { gather(CGEventTapInformation.EVENTSOFINTEREST, dst); return this; }
+        /** Copies the {@code minUsecLatency} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getMinUsecLatency(float[] dst) { gather(CGEventTapInformation.MINUSECLATENCY, dst); return this; }
+        /** Copies the {@code minUsecLatency} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getMinUsecLatency(FloatBuffer dst) { gather(CGEventTapInformation.MINUSECLATENCY, dst); return this; }
+        /** Copies the {@code avgUsecLatency} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getAvgUsecLatency(float[] dst) { gather(CGEventTapInformation.AVGUSECLATENCY, dst); return this; }
+        /** Copies the {@code avgUsecLatency} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getAvgUsecLatency(FloatBuffer dst) { gather(CGEventTapInformation.AVGUSECLATENCY, dst); return this; }
+        /** Copies the {@code maxUsecLatency} field of the structs between the current position and limit to the specified array. */
+        public CGEventTapInformation.Buffer getMaxUsecLatency(float[] dst) { gather(CGEventTapInformation.MAXUSECLATENCY, dst); return this; }
+        /** Copies the {@code maxUsecLatency} field of the structs between the current position and limit to the specified buffer. */
+        public CGEventTapInformation.Buffer getMaxUsecLatency(FloatBuffer dst) { gather(CGEventTapInformation.MAXUSECLATENCY, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -210,6 +210,24 @@ public class CGPoint extends Struct implements NativeResource {
         return wrap(CGPoint.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CGPoint} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CGPoint malloc(MemoryArena arena) {
+        return wrap(CGPoint.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CGPoint} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CGPoint calloc(MemoryArena arena) {
+        return wrap(CGPoint.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CGPoint.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class CGPoint extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CGPoint.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CGPoint.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CGPoint.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CGPoint.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -310,6 +348,24 @@ public class CGPoint extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public CGPoint.Buffer y(@NativeType("CGFloat") double value) { CGPoint.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public CGPoint.Buffer getX(double[] dst) { gather(CGPoint.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public CGPoint.Buffer getX(DoubleBuffer dst) { gather(CGPoint.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public CGPoint.Buffer getY(double[] dst) { gather(CGPoint.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public CGPoint.Buffer getY(DoubleBuffer dst) { gather(CGPoint.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public CGPoint.Buffer putX(double[] src) { scatter(CGPoint.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public CGPoint.Buffer putX(DoubleBuffer src) { scatter(CGPoint.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public CGPoint.Buffer putY(double[] src) { scatter(CGPoint.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public CGPoint.Buffer putY(DoubleBuffer src) { scatter(CGPoint.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
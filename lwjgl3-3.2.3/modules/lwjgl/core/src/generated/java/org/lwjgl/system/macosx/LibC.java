@@ -5,36 +5,180 @@
  */
 package org.lwjgl.system.macosx;
 
+import java.nio.*;
+
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.APIUtil.*;
-import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
 
 /** Native bindings to libc, the Standard C Library. */
 public class LibC {
 
-    protected LibC() {
-        throw new UnsupportedOperationException();
-    }
+    /** The {@code flags} argument to {@link #open} must include one of the following access modes. */
+    public static final int
+        O_RDONLY = 0,
+        O_WRONLY = 0x1,
+        O_RDWR   = 0x2;
+
+    /** Enables the close-on-exec flag for the new file descriptor. */
+    public static final int O_CLOEXEC = 0x1000000;
+
+    /** The {@code prot} argument to {@link #mmap} is either {@link #PROT_NONE} or the bitwise OR of one or more of the following flags. */
+    public static final int
+        PROT_NONE  = 0,
+        PROT_READ  = 0x1,
+        PROT_WRITE = 0x2,
+        PROT_EXEC  = 0x4;
+
+    /** The {@code flags} argument to {@link #mmap} must include exactly one of {@link #MAP_SHARED} or {@link #MAP_PRIVATE}. */
+    public static final int
+        MAP_SHARED  = 0x1,
+        MAP_PRIVATE = 0x2;
 
-    /** Contains the function pointers loaded from {@code LibSystem.getLibrary()}. */
-    public static final class Functions {
+    /** The value returned by {@link #mmap} on failure. */
+    public static final long MAP_FAILED = 0xFFFFFFFFFFFFFFFFL;
 
-        private Functions() {}
+    /** The {@code advice} argument to {@link #madvise}. */
+    public static final int
+        MADV_NORMAL     = 0,
+        MADV_RANDOM     = 0x1,
+        MADV_SEQUENTIAL = 0x2,
+        MADV_WILLNEED   = 0x3,
+        MADV_DONTNEED   = 0x4;
 
-        /** Function address. */
-        public static final long
-            getpid = apiGetFunctionAddress(LibSystem.getLibrary(), "getpid");
+    static { Library.initialize(); }
 
+    protected LibC() {
+        throw new UnsupportedOperationException();
     }
 
     // --- [ getpid ] ---
 
     /** Returns the process ID of the calling process. */
     @NativeType("pid_t")
-    public static long getpid() {
-        long __functionAddress = Functions.getpid;
-        return invokeP(__functionAddress);
+    public static native long getpid();
+
+    // --- [ open ] ---
+
+    /** Unsafe version of: {@link #open} */
+    public static native int nopen(long pathname, int flags);
+
+    /**
+     * Opens the file specified by {@code pathname} and returns a file descriptor, a small, nonnegative integer that is used in subsequent system calls to
+     * refer to the open file.
+     * 
+     * <p>The {@code mode} argument is not exposed, so this function cannot be used to create new files.</p>
+     *
+     * @param pathname the file to open
+     * @param flags    the access mode, optionally combined with {@link #O_CLOEXEC}. One or more of:<br><table><tr><td>{@link #O_RDONLY}</td><td>{@link #O_WRONLY}</td><td>{@link #O_RDWR}</td><td>{@link #O_CLOEXEC}</td></tr></table>
+     *
+     * @return the new file descriptor, or -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int open(@NativeType("char const *") ByteBuffer pathname, int flags) {
+        if (CHECKS) {
+            checkNT1(pathname);
+        }
+        return nopen(memAddress(pathname), flags);
+    }
+
+    /**
+     * Opens the file specified by {@code pathname} and returns a file descriptor, a small, nonnegative integer that is used in subsequent system calls to
+     * refer to the open file.
+     * 
+     * <p>The {@code mode} argument is not exposed, so this function cannot be used to create new files.</p>
+     *
+     * @param pathname the file to open
+     * @param flags    the access mode, optionally combined with {@link #O_CLOEXEC}. One or more of:<br><table><tr><td>{@link #O_RDONLY}</td><td>{@link #O_WRONLY}</td><td>{@link #O_RDWR}</td><td>{@link #O_CLOEXEC}</td></tr></table>
+     *
+     * @return the new file descriptor, or -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int open(@NativeType("char const *") CharSequence pathname, int flags) {
+        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        try {
+            stack.nUTF8(pathname, true);
+            long pathnameEncoded = stack.getPointerAddress();
+            return nopen(pathnameEncoded, flags);
+        } finally {
+            stack.setPointer(stackPointer);
+        }
+    }
+
+    // --- [ close ] ---
+
+    /**
+     * Closes a file descriptor, so that it no longer refers to any file and may be reused.
+     * 
+     * <p>Mappings created with {@link #mmap} are not affected, they remain valid until they are explicitly unmapped.</p>
+     *
+     * @param fd the file descriptor to close
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static native int close(int fd);
+
+    // --- [ mmap ] ---
+
+    /**
+     * Creates a new mapping in the virtual address space of the calling process.
+     * 
+     * <p>The contents of a file mapping are initialized using {@code length} bytes starting at offset {@code offset} in the file referred to by the file
+     * descriptor {@code fd}. {@code offset} must be a multiple of the page size.</p>
+     *
+     * @param addr   the starting address hint for the new mapping, or {@code NULL} to let the kernel choose the address
+     * @param length the length of the mapping, must be greater than 0
+     * @param prot   the desired memory protection of the mapping. One or more of:<br><table><tr><td>{@link #PROT_NONE}</td><td>{@link #PROT_READ}</td><td>{@link #PROT_WRITE}</td><td>{@link #PROT_EXEC}</td></tr></table>
+     * @param flags  determines whether updates to the mapping are visible to other processes mapping the same region. One of:<br><table><tr><td>{@link #MAP_SHARED}</td><td>{@link #MAP_PRIVATE}</td></tr></table>
+     * @param fd     the file descriptor of the file to map
+     * @param offset the offset in the file
+     *
+     * @return a pointer to the mapped area on success, {@link #MAP_FAILED} if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    @NativeType("void *")
+    public static native long mmap(@NativeType("void *") long addr, @NativeType("size_t") long length, int prot, int flags, int fd, @NativeType("off_t") long offset);
+
+    // --- [ munmap ] ---
+
+    /** Unsafe version of: {@link #munmap} */
+    public static native int nmunmap(long addr, long length);
+
+    /**
+     * Deletes the mappings for the specified address range.
+     *
+     * @param addr   the start of the address range, must be a multiple of the page size
+     * @param length the length of the address range
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int munmap(@NativeType("void *") long addr, @NativeType("size_t") long length) {
+        if (CHECKS) {
+            check(addr);
+        }
+        return nmunmap(addr, length);
+    }
+
+    // --- [ madvise ] ---
+
+    /** Unsafe version of: {@link #madvise} */
+    public static native int nmadvise(long addr, long length, int advice);
+
+    /**
+     * Advises the kernel about how the specified address range is expected to be used, so that it can choose appropriate read-ahead and caching techniques.
+     * 
+     * <p>The advice does not affect the semantics of the application (except in the case of {@link #MADV_DONTNEED}), but may influence its performance.</p>
+     *
+     * @param addr   the start of the address range, must be a multiple of the page size
+     * @param length the length of the address range
+     * @param advice the advice. One of:<br><table><tr><td>{@link #MADV_NORMAL}</td><td>{@link #MADV_RANDOM}</td><td>{@link #MADV_SEQUENTIAL}</td><td>{@link #MADV_WILLNEED}</td><td>{@link #MADV_DONTNEED}</td></tr></table>
+     *
+     * @return zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)
+     */
+    public static int madvise(@NativeType("void *") long addr, @NativeType("size_t") long length, int advice) {
+        if (CHECKS) {
+            check(addr);
+        }
+        return nmadvise(addr, length, advice);
     }
 
 }
\ No newline at end of file
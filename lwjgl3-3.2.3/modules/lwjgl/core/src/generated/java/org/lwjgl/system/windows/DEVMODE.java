@@ -543,6 +543,24 @@ public class DEVMODE extends Struct implements NativeResource {
         return wrap(DEVMODE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code DEVMODE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DEVMODE malloc(MemoryArena arena) {
+        return wrap(DEVMODE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code DEVMODE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DEVMODE calloc(MemoryArena arena) {
+        return wrap(DEVMODE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link DEVMODE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -581,6 +599,26 @@ public class DEVMODE extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link DEVMODE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DEVMODE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link DEVMODE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DEVMODE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #dmDeviceName}. */
@@ -823,6 +861,112 @@ public class DEVMODE extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dmDriverExtra} field. */
         public DEVMODE.Buffer dmDriverExtra(@NativeType("WORD") short value) { DEVMODE.ndmDriverExtra(address(), value); return this; }
 
+        /** Copies the {@code dmSpecVersion} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmSpecVersion(short[] dst) { gather(DEVMODE.DMSPECVERSION, dst); return this; }
+        /** Copies the {@code dmSpecVersion} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmSpecVersion(ShortBuffer dst) { gather(DEVMODE.DMSPECVERSION, dst); return this; }
+        /** Copies the {@code dmDriverVersion} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmDriverVersion(short[] dst) { gather(DEVMODE.DMDRIVERVERSION, dst); return this; }
+        /** Copies the {@code dmDriverVersion} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmDriverVersion(ShortBuffer dst) { gather(DEVMODE.DMDRIVERVERSION, dst); return this; }
+        /** Copies the {@code dmSize} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmSize(short[] dst) { gather(DEVMODE.DMSIZE, dst); return this; }
+        /** Copies the {@code dmSize} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmSize(ShortBuffer dst) { gather(DEVMODE.DMSIZE, dst); return this; }
+        /** Copies the {@code dmDriverExtra} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmDriverExtra(short[] dst) { gather(DEVMODE.DMDRIVEREXTRA, dst); return this; }
+        /** Copies the {@code dmDriverExtra} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmDriverExtra(ShortBuffer dst) { gather(DEVMODE.DMDRIVEREXTRA, dst); return this; }
+        /** Copies the {@code dmFields} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmFields(int[] dst) { gather(DEVMODE.DMFIELDS, dst); return this; }
+        /** Copies the {@code dmFields} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmFields(IntBuffer dst) { gather(DEVMODE.DMFIELDS, dst); return this; }
+        /** Copies the {@code dmColor} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmColor(short[] dst) { gather(DEVMODE.DMCOLOR, dst); return this; }
+        /** Copies the {@code dmColor} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmColor(ShortBuffer dst) { gather(DEVMODE.DMCOLOR, dst); return this; }
+        /** Copies the {@code dmDuplex} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmDuplex(short[] dst) { gather(DEVMODE.DMDUPLEX, dst); return this; }
+        /** Copies the {@code dmDuplex} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmDuplex(ShortBuffer dst) { gather(DEVMODE.DMDUPLEX, dst); return this; }
+        /** Copies the {@code dmYResolution} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmYResolution(short[] dst) { gather(DEVMODE.DMYRESOLUTION, dst); return this; }
+        /** Copies the {@code dmYResolution} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmYResolution(ShortBuffer dst) { gather(DEVMODE.DMYRESOLUTION, dst); return this; }
+        /** Copies the {@code dmTTOption} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmTTOption(short[] dst) { gather(DEVMODE.DMTTOPTION, dst); return this; }
+        /** Copies the {@code dmTTOption} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmTTOption(ShortBuffer dst) { gather(DEVMODE.DMTTOPTION, dst); return this; }
+        /** Copies the {@code dmCollate} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmCollate(short[] dst) { gather(DEVMODE.DMCOLLATE, dst); return this; }
+        /** Copies the {@code dmCollate} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmCollate(ShortBuffer dst) { gather(DEVMODE.DMCOLLATE, dst); return this; }
+        /** Copies the {@code dmLogPixels} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmLogPixels(short[] dst) { gather(DEVMODE.DMLOGPIXELS, dst); return this; }
+        /** Copies the {@code dmLogPixels} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmLogPixels(ShortBuffer dst) { gather(DEVMODE.DMLOGPIXELS, dst); return this; }
+        /** Copies the {@code dmBitsPerPel} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmBitsPerPel(int[] dst) { gather(DEVMODE.DMBITSPERPEL, dst); return this; }
+        /** Copies the {@code dmBitsPerPel} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmBitsPerPel(IntBuffer dst) { gather(DEVMODE.DMBITSPERPEL, dst); return this; }
+        /** Copies the {@code dmPelsWidth} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmPelsWidth(int[] dst) { gather(DEVMODE.DMPELSWIDTH, dst); return this; }
+        /** Copies the {@code dmPelsWidth} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmPelsWidth(IntBuffer dst) { gather(DEVMODE.DMPELSWIDTH, dst); return this; }
+        /** Copies the {@code dmPelsHeight} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmPelsHeight(int[] dst) { gather(DEVMODE.DMPELSHEIGHT, dst); return this; }
+        /** Copies the {@code dmPelsHeight} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmPelsHeight(IntBuffer dst) { gather(DEVMODE.DMPELSHEIGHT, dst); return this; }
+        /** Copies the {@code dmDisplayFrequency} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmDisplayFrequency(int[] dst) { gather(DEVMODE.DMDISPLAYFREQUENCY, dst); return this; }
+        /** Copies the {@code dmDisplayFrequency} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmDisplayFrequency(IntBuffer dst) { gather(DEVMODE.DMDISPLAYFREQUENCY, dst); return this; }
+        /** Copies the {@code dmICMMethod} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmICMMethod(int[] dst) { gather(DEVMODE.DMICMMETHOD, dst); return this; }
+        /** Copies the {@code dmICMMethod} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmICMMethod(IntBuffer dst) { gather(DEVMODE.DMICMMETHOD, dst); return this; }
+        /** Copies the {@code dmICMIntent} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmICMIntent(int[] dst) { gather(DEVMODE.DMICMINTENT, dst); return this; }
+        /** Copies the {@code dmICMIntent} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmICMIntent(IntBuffer dst) { gather(DEVMODE.DMICMINTENT, dst); return this; }
+        /** Copies the {@code dmMediaType} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmMediaType(int[] dst) { gather(DEVMODE.DMMEDIATYPE, dst); return this; }
+        /** Copies the {@code dmMediaType} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmMediaType(IntBuffer dst) { gather(DEVMODE.DMMEDIATYPE, dst); return this; }
+        /** Copies the {@code dmDitherType} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmDitherType(int[] dst) { gather(DEVMODE.DMDITHERTYPE, dst); return this; }
+        /** Copies the {@code dmDitherType} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmDitherType(IntBuffer dst) { gather(DEVMODE.DMDITHERTYPE, dst); return this; }
+        /** Copies the {@code dmReserved1} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmReserved1(int[] dst) { gather(DEVMODE.DMRESERVED1, dst); return this; }
+        /** Copies the {@code dmReserved1} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmReserved1(IntBuffer dst) { gather(DEVMODE.DMRESERVED1, dst); return this; }
+        /** Copies the {@code dmReserved2} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmReserved2(int[] dst) { gather(DEVMODE.DMRESERVED2, dst); return this; }
+        /** Copies the {@code dmReserved2} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmReserved2(IntBuffer dst) { gather(DEVMODE.DMRESERVED2, dst); return this; }
+        /** Copies the {@code dmPanningWidth} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmPanningWidth(int[] dst) { gather(DEVMODE.DMPANNINGWIDTH, dst); return this; }
+        /** Copies the {@code dmPanningWidth} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmPanningWidth(IntBuffer dst) { gather(DEVMODE.DMPANNINGWIDTH, dst); return this; }
+        /** Copies the {@code dmPanningHeight} field of the structs between the current position and limit to the specified array. */
+        public DEVMODE.Buffer getDmPanningHeight(int[] dst) { gather(DEVMODE.DMPANNINGHEIGHT, dst); return this; }
+        /** Copies the {@code dmPanningHeight} field of the structs between the current position and limit to the specified buffer. */
+        public DEVMODE.Buffer getDmPanningHeight(IntBuffer dst) { gather(DEVMODE.DMPANNINGHEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code dmSpecVersion} field of the structs between the current position and limit. */
+        public DEVMODE.Buffer putDmSpecVersion(short[] src) { scatter(DEVMODE.DMSPECVERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dmSpecVersion} field of the structs between the current position and limit. */
+        public DEVMODE.Buffer putDmSpecVersion(ShortBuffer src) { scatter(DEVMODE.DMSPECVERSION, src); return this; }
+        /** Copies the values in the specified array to the {@code dmSize} field of the structs between the current position and limit. */
+        public DEVMODE.Buffer putDmSize(short[] src) { scatter(DEVMODE.DMSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dmSize} field of the structs between the current position and limit. */
+        public DEVMODE.Buffer putDmSize(ShortBuffer src) { scatter(DEVMODE.DMSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code dmDriverExtra} field of the structs between the current position and limit. */
+        public DEVMODE.Buffer putDmDriverExtra(short[] src) { scatter(DEVMODE.DMDRIVEREXTRA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dmDriverExtra} field of the structs between the current position and limit. */
+        public DEVMODE.Buffer putDmDriverExtra(ShortBuffer src) { scatter(DEVMODE.DMDRIVEREXTRA, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -245,6 +245,24 @@ public class DISPLAY_DEVICE extends Struct implements NativeResource {
         return wrap(DISPLAY_DEVICE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code DISPLAY_DEVICE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DISPLAY_DEVICE malloc(MemoryArena arena) {
+        return wrap(DISPLAY_DEVICE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code DISPLAY_DEVICE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DISPLAY_DEVICE calloc(MemoryArena arena) {
+        return wrap(DISPLAY_DEVICE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link DISPLAY_DEVICE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class DISPLAY_DEVICE extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link DISPLAY_DEVICE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DISPLAY_DEVICE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link DISPLAY_DEVICE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DISPLAY_DEVICE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #cb}. */
@@ -381,6 +419,20 @@ public class DISPLAY_DEVICE extends Struct implements NativeResource {
         /** Sets the specified value to the {@code cb} field. */
         public DISPLAY_DEVICE.Buffer cb(@NativeType("DWORD") int value) { DISPLAY_DEVICE.ncb(address(), value); return this; }
 
+        /** Copies the {@code cb} field of the structs between the current position and limit to the specified array. */
+        public DISPLAY_DEVICE.Buffer getCb(int[] dst) { gather(DISPLAY_DEVICE.CB, dst); return this; }
+        /** Copies the {@code cb} field of the structs between the current position and limit to the specified buffer. */
+        public DISPLAY_DEVICE.Buffer getCb(IntBuffer dst) { gather(DISPLAY_DEVICE.CB, dst); return this; }
+        /** Copies the {@code StateFlags} field of the structs between the current position and limit to the specified array. */
+        public DISPLAY_DEVICE.Buffer getStateFlags(int[] dst) { gather(DISPLAY_DEVICE.STATEFLAGS, dst); return this; }
+        /** Copies the {@code StateFlags} field of the structs between the current position and limit to the specified buffer. */
+        public DISPLAY_DEVICE.Buffer getStateFlags(IntBuffer dst) { gather(DISPLAY_DEVICE.STATEFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code cb} field of the structs between the current position and limit. */
+        public DISPLAY_DEVICE.Buffer putCb(int[] src) { scatter(DISPLAY_DEVICE.CB, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cb} field of the structs between the current position and limit. */
+        public DISPLAY_DEVICE.Buffer putCb(IntBuffer src) { scatter(DISPLAY_DEVICE.CB, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -222,6 +222,24 @@ public class HARDWAREINPUT extends Struct implements NativeResource {
         return wrap(HARDWAREINPUT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code HARDWAREINPUT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HARDWAREINPUT malloc(MemoryArena arena) {
+        return wrap(HARDWAREINPUT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code HARDWAREINPUT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HARDWAREINPUT calloc(MemoryArena arena) {
+        return wrap(HARDWAREINPUT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link HARDWAREINPUT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class HARDWAREINPUT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link HARDWAREINPUT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HARDWAREINPUT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link HARDWAREINPUT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HARDWAREINPUT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #uMsg}. */
@@ -331,6 +369,32 @@ public class HARDWAREINPUT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code wParamH} field. */
         public HARDWAREINPUT.Buffer wParamH(@NativeType("WORD") short value) { HARDWAREINPUT.nwParamH(address(), value); return this; }
 
+        /** Copies the {@code uMsg} field of the structs between the current position and limit to the specified array. */
+        public HARDWAREINPUT.Buffer getUMsg(int[] dst) { gather(HARDWAREINPUT.UMSG, dst); return this; }
+        /** Copies the {@code uMsg} field of the structs between the current position and limit to the specified buffer. */
+        public HARDWAREINPUT.Buffer getUMsg(IntBuffer dst) { gather(HARDWAREINPUT.UMSG, dst); return this; }
+        /** Copies the {@code wParamL} field of the structs between the current position and limit to the specified array. */
+        public HARDWAREINPUT.Buffer getWParamL(short[] dst) { gather(HARDWAREINPUT.WPARAML, dst); return this; }
+        /** Copies the {@code wParamL} field of the structs between the current position and limit to the specified buffer. */
+        public HARDWAREINPUT.Buffer getWParamL(ShortBuffer dst) { gather(HARDWAREINPUT.WPARAML, dst); return this; }
+        /** Copies the {@code wParamH} field of the structs between the current position and limit to the specified array. */
+        public HARDWAREINPUT.Buffer getWParamH(short[] dst) { gather(HARDWAREINPUT.WPARAMH, dst); return this; }
+        /** Copies the {@code wParamH} field of the structs between the current position and limit to the specified buffer. */
+        public HARDWAREINPUT.Buffer getWParamH(ShortBuffer dst) { gather(HARDWAREINPUT.WPARAMH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code uMsg} field of the structs between the current position and limit. */
+        public HARDWAREINPUT.Buffer putUMsg(int[] src) { scatter(HARDWAREINPUT.UMSG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code uMsg} field of the structs between the current position and limit. */
+        public HARDWAREINPUT.Buffer putUMsg(IntBuffer src) { scatter(HARDWAREINPUT.UMSG, src); return this; }
+        /** Copies the values in the specified array to the {@code wParamL} field of the structs between the current position and limit. */
+        public HARDWAREINPUT.Buffer putWParamL(short[] src) { scatter(HARDWAREINPUT.WPARAML, src); return this; }
+        /** Copies the values in the specified buffer to the {@code wParamL} field of the structs between the current position and limit. */
+        public HARDWAREINPUT.Buffer putWParamL(ShortBuffer src) { scatter(HARDWAREINPUT.WPARAML, src); return this; }
+        /** Copies the values in the specified array to the {@code wParamH} field of the structs between the current position and limit. */
+        public HARDWAREINPUT.Buffer putWParamH(short[] src) { scatter(HARDWAREINPUT.WPARAMH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code wParamH} field of the structs between the current position and limit. */
+        public HARDWAREINPUT.Buffer putWParamH(ShortBuffer src) { scatter(HARDWAREINPUT.WPARAMH, src); return this; }
+
     }
 
 }
\ No newline at end of file
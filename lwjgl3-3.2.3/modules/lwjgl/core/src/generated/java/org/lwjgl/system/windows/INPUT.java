@@ -232,6 +232,24 @@ public class INPUT extends Struct implements NativeResource {
         return wrap(INPUT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code INPUT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static INPUT malloc(MemoryArena arena) {
+        return wrap(INPUT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code INPUT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static INPUT calloc(MemoryArena arena) {
+        return wrap(INPUT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link INPUT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class INPUT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link INPUT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static INPUT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link INPUT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static INPUT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -353,6 +391,16 @@ public class INPUT extends Struct implements NativeResource {
         /** Passes the {@code DUMMYUNIONNAME.hi} field to the specified {@link java.util.function.Consumer Consumer}. */
         public INPUT.Buffer DUMMYUNIONNAME_hi(java.util.function.Consumer<HARDWAREINPUT> consumer) { consumer.accept(DUMMYUNIONNAME_hi()); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public INPUT.Buffer getType(int[] dst) { gather(INPUT.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public INPUT.Buffer getType(IntBuffer dst) { gather(INPUT.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public INPUT.Buffer putType(int[] src) { scatter(INPUT.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public INPUT.Buffer putType(IntBuffer src) { scatter(INPUT.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class KEYBDINPUT extends Struct implements NativeResource {
         return wrap(KEYBDINPUT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code KEYBDINPUT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static KEYBDINPUT malloc(MemoryArena arena) {
+        return wrap(KEYBDINPUT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code KEYBDINPUT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static KEYBDINPUT calloc(MemoryArena arena) {
+        return wrap(KEYBDINPUT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link KEYBDINPUT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class KEYBDINPUT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link KEYBDINPUT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static KEYBDINPUT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link KEYBDINPUT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static KEYBDINPUT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #wVk}. */
@@ -379,6 +417,40 @@ public class KEYBDINPUT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dwExtraInfo} field. */
         public KEYBDINPUT.Buffer dwExtraInfo(@NativeType("ULONG_PTR") long value) { KEYBDINPUT.ndwExtraInfo(address(), value); return this; }
 
+        /** Copies the {@code wVk} field of the structs between the current position and limit to the specified array. */
+        public KEYBDINPUT.Buffer getWVk(short[] dst) { gather(KEYBDINPUT.WVK, dst); return this; }
+        /** Copies the {@code wVk} field of the structs between the current position and limit to the specified buffer. */
+        public KEYBDINPUT.Buffer getWVk(ShortBuffer dst) { gather(KEYBDINPUT.WVK, dst); return this; }
+        /** Copies the {@code wScan} field of the structs between the current position and limit to the specified array. */
+        public KEYBDINPUT.Buffer getWScan(short[] dst) { gather(KEYBDINPUT.WSCAN, dst); return this; }
+        /** Copies the {@code wScan} field of the structs between the current position and limit to the specified buffer. */
+        public KEYBDINPUT.Buffer getWScan(ShortBuffer dst) { gather(KEYBDINPUT.WSCAN, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified array. */
+        public KEYBDINPUT.Buffer getDwFlags(int[] dst) { gather(KEYBDINPUT.DWFLAGS, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified buffer. */
+        public KEYBDINPUT.Buffer getDwFlags(IntBuffer dst) { gather(KEYBDINPUT.DWFLAGS, dst); return this; }
+        /** Copies the {@code time} field of the structs between the current position and limit to the specified array. */
+        public KEYBDINPUT.Buffer getTime(int[] dst) { gather(KEYBDINPUT.TIME, dst); return this; }
+        /** Copies the {@code time} field of the structs between the current position and limit to the specified buffer. */
+        public KEYBDINPUT.Buffer getTime(IntBuffer dst) { gather(KEYBDINPUT.TIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code wVk} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putWVk(short[] src) { scatter(KEYBDINPUT.WVK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code wVk} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putWVk(ShortBuffer src) { scatter(KEYBDINPUT.WVK, src); return this; }
+        /** Copies the values in the specified array to the {@code wScan} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putWScan(short[] src) { scatter(KEYBDINPUT.WSCAN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code wScan} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putWScan(ShortBuffer src) { scatter(KEYBDINPUT.WSCAN, src); return this; }
+        /** Copies the values in the specified array to the {@code dwFlags} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putDwFlags(int[] src) { scatter(KEYBDINPUT.DWFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwFlags} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putDwFlags(IntBuffer src) { scatter(KEYBDINPUT.DWFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code time} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putTime(int[] src) { scatter(KEYBDINPUT.TIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code time} field of the structs between the current position and limit. */
+        public KEYBDINPUT.Buffer putTime(IntBuffer src) { scatter(KEYBDINPUT.TIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
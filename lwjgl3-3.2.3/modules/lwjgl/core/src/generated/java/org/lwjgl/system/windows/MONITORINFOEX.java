@@ -232,6 +232,24 @@ public class MONITORINFOEX extends Struct implements NativeResource {
         return wrap(MONITORINFOEX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code MONITORINFOEX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MONITORINFOEX malloc(MemoryArena arena) {
+        return wrap(MONITORINFOEX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code MONITORINFOEX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MONITORINFOEX calloc(MemoryArena arena) {
+        return wrap(MONITORINFOEX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link MONITORINFOEX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class MONITORINFOEX extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link MONITORINFOEX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MONITORINFOEX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link MONITORINFOEX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MONITORINFOEX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #cbSize}. */
@@ -346,6 +384,20 @@ public class MONITORINFOEX extends Struct implements NativeResource {
         /** Sets the specified value to the {@code cbSize} field. */
         public MONITORINFOEX.Buffer cbSize(@NativeType("DWORD") int value) { MONITORINFOEX.ncbSize(address(), value); return this; }
 
+        /** Copies the {@code cbSize} field of the structs between the current position and limit to the specified array. */
+        public MONITORINFOEX.Buffer getCbSize(int[] dst) { gather(MONITORINFOEX.CBSIZE, dst); return this; }
+        /** Copies the {@code cbSize} field of the structs between the current position and limit to the specified buffer. */
+        public MONITORINFOEX.Buffer getCbSize(IntBuffer dst) { gather(MONITORINFOEX.CBSIZE, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified array. */
+        public MONITORINFOEX.Buffer getDwFlags(int[] dst) { gather(MONITORINFOEX.DWFLAGS, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified buffer. */
+        public MONITORINFOEX.Buffer getDwFlags(IntBuffer dst) { gather(MONITORINFOEX.DWFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code cbSize} field of the structs between the current position and limit. */
+        public MONITORINFOEX.Buffer putCbSize(int[] src) { scatter(MONITORINFOEX.CBSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cbSize} field of the structs between the current position and limit. */
+        public MONITORINFOEX.Buffer putCbSize(IntBuffer src) { scatter(MONITORINFOEX.CBSIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
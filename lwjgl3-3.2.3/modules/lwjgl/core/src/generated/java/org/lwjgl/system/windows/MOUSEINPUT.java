@@ -284,6 +284,24 @@ public class MOUSEINPUT extends Struct implements NativeResource {
         return wrap(MOUSEINPUT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code MOUSEINPUT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MOUSEINPUT malloc(MemoryArena arena) {
+        return wrap(MOUSEINPUT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code MOUSEINPUT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MOUSEINPUT calloc(MemoryArena arena) {
+        return wrap(MOUSEINPUT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link MOUSEINPUT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -322,6 +340,26 @@ public class MOUSEINPUT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link MOUSEINPUT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MOUSEINPUT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link MOUSEINPUT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MOUSEINPUT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #dx}. */
@@ -420,6 +458,48 @@ public class MOUSEINPUT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dwExtraInfo} field. */
         public MOUSEINPUT.Buffer dwExtraInfo(@NativeType("ULONG_PTR") long value) { MOUSEINPUT.ndwExtraInfo(address(), value); return this; }
 
+        /** Copies the {@code dx} field of the structs between the current position and limit to the specified array. */
+        public MOUSEINPUT.Buffer getDx(int[] dst) { gather(MOUSEINPUT.DX, dst); return this; }
+        /** Copies the {@code dx} field of the structs between the current position and limit to the specified buffer. */
+        public MOUSEINPUT.Buffer getDx(IntBuffer dst) { gather(MOUSEINPUT.DX, dst); return this; }
+        /** Copies the {@code dy} field of the structs between the current position and limit to the specified array. */
+        public MOUSEINPUT.Buffer getDy(int[] dst) { gather(MOUSEINPUT.DY, dst); return this; }
+        /** Copies the {@code dy} field of the structs between the current position and limit to the specified buffer. */
+        public MOUSEINPUT.Buffer getDy(IntBuffer dst) { gather(MOUSEINPUT.DY, dst); return this; }
+        /** Copies the {@code mouseData} field of the structs between the current position and limit to the specified array. */
+        public MOUSEINPUT.Buffer getMouseData(int[] dst) { gather(MOUSEINPUT.MOUSEDATA, dst); return this; }
+        /** Copies the {@code mouseData} field of the structs between the current position and limit to the specified buffer. */
+        public MOUSEINPUT.Buffer getMouseData(IntBuffer dst) { gather(MOUSEINPUT.MOUSEDATA, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified array. */
+        public MOUSEINPUT.Buffer getDwFlags(int[] dst) { gather(MOUSEINPUT.DWFLAGS, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified buffer. */
+        public MOUSEINPUT.Buffer getDwFlags(IntBuffer dst) { gather(MOUSEINPUT.DWFLAGS, dst); return this; }
+        /** Copies the {@code time} field of the structs between the current position and limit to the specified array. */
+        public MOUSEINPUT.Buffer getTime(int[] dst) { gather(MOUSEINPUT.TIME, dst); return this; }
+        /** Copies the {@code time} field of the structs between the current position and limit to the specified buffer. */
+        public MOUSEINPUT.Buffer getTime(IntBuffer dst) { gather(MOUSEINPUT.TIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code dx} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putDx(int[] src) { scatter(MOUSEINPUT.DX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dx} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putDx(IntBuffer src) { scatter(MOUSEINPUT.DX, src); return this; }
+        /** Copies the values in the specified array to the {@code dy} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putDy(int[] src) { scatter(MOUSEINPUT.DY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dy} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putDy(IntBuffer src) { scatter(MOUSEINPUT.DY, src); return this; }
+        /** Copies the values in the specified array to the {@code mouseData} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putMouseData(int[] src) { scatter(MOUSEINPUT.MOUSEDATA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mouseData} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putMouseData(IntBuffer src) { scatter(MOUSEINPUT.MOUSEDATA, src); return this; }
+        /** Copies the values in the specified array to the {@code dwFlags} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putDwFlags(int[] src) { scatter(MOUSEINPUT.DWFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwFlags} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putDwFlags(IntBuffer src) { scatter(MOUSEINPUT.DWFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code time} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putTime(int[] src) { scatter(MOUSEINPUT.TIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code time} field of the structs between the current position and limit. */
+        public MOUSEINPUT.Buffer putTime(IntBuffer src) { scatter(MOUSEINPUT.TIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
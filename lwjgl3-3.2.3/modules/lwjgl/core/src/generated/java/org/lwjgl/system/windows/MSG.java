@@ -259,6 +259,24 @@ public class MSG extends Struct implements NativeResource {
         return wrap(MSG.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code MSG} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MSG malloc(MemoryArena arena) {
+        return wrap(MSG.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code MSG} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MSG calloc(MemoryArena arena) {
+        return wrap(MSG.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link MSG.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class MSG extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link MSG.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MSG.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link MSG.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MSG.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #hwnd}. */
@@ -396,6 +434,24 @@ public class MSG extends Struct implements NativeResource {
         /** Passes the {@code pt} field to the specified {@link java.util.function.Consumer Consumer}. */
         public MSG.Buffer pt(java.util.function.Consumer<POINT> consumer) { consumer.accept(pt()); return this; }
 
+        /** Copies the {@code message} field of the structs between the current position and limit to the specified array. */
+        public MSG.Buffer getMessage(int[] dst) { gather(MSG.MESSAGE, dst); return this; }
+        /** Copies the {@code message} field of the structs between the current position and limit to the specified buffer. */
+        public MSG.Buffer getMessage(IntBuffer dst) { gather(MSG.MESSAGE, dst); return this; }
+        /** Copies the {@code time} field of the structs between the current position and limit to the specified array. */
+        public MSG.Buffer getTime(int[] dst) { gather(MSG.TIME, dst); return this; }
+        /** Copies the {@code time} field of the structs between the current position and limit to the specified buffer. */
+        public MSG.Buffer getTime(IntBuffer dst) { gather(MSG.TIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code message} field of the structs between the current position and limit. */
+        public MSG.Buffer putMessage(int[] src) { scatter(MSG.MESSAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code message} field of the structs between the current position and limit. */
+        public MSG.Buffer putMessage(IntBuffer src) { scatter(MSG.MESSAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code time} field of the structs between the current position and limit. */
+        public MSG.Buffer putTime(int[] src) { scatter(MSG.TIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code time} field of the structs between the current position and limit. */
+        public MSG.Buffer putTime(IntBuffer src) { scatter(MSG.TIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -504,6 +504,24 @@ public class PIXELFORMATDESCRIPTOR extends Struct implements NativeResource {
         return wrap(PIXELFORMATDESCRIPTOR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code PIXELFORMATDESCRIPTOR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static PIXELFORMATDESCRIPTOR malloc(MemoryArena arena) {
+        return wrap(PIXELFORMATDESCRIPTOR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code PIXELFORMATDESCRIPTOR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static PIXELFORMATDESCRIPTOR calloc(MemoryArena arena) {
+        return wrap(PIXELFORMATDESCRIPTOR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link PIXELFORMATDESCRIPTOR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -542,6 +560,26 @@ public class PIXELFORMATDESCRIPTOR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link PIXELFORMATDESCRIPTOR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static PIXELFORMATDESCRIPTOR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link PIXELFORMATDESCRIPTOR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static PIXELFORMATDESCRIPTOR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #nSize}. */
@@ -820,6 +858,216 @@ public class PIXELFORMATDESCRIPTOR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dwDamageMask} field. */
         public PIXELFORMATDESCRIPTOR.Buffer dwDamageMask(@NativeType("DWORD") int value) { PIXELFORMATDESCRIPTOR.ndwDamageMask(address(), value); return this; }
 
+        /** Copies the {@code nSize} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getNSize(short[] dst) { gather(PIXELFORMATDESCRIPTOR.NSIZE, dst); return this; }
+        /** Copies the {@code nSize} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getNSize(ShortBuffer dst) { gather(PIXELFORMATDESCRIPTOR.NSIZE, dst); return this; }
+        /** Copies the {@code nVersion} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getNVersion(short[] dst) { gather(PIXELFORMATDESCRIPTOR.NVERSION, dst); return this; }
+        /** Copies the {@code nVersion} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getNVersion(ShortBuffer dst) { gather(PIXELFORMATDESCRIPTOR.NVERSION, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwFlags(int[] dst) { gather(PIXELFORMATDESCRIPTOR.DWFLAGS, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwFlags(IntBuffer dst) { gather(PIXELFORMATDESCRIPTOR.DWFLAGS, dst); return this; }
+        /** Copies the {@code iPixelType} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getIPixelType(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.IPIXELTYPE, dst); return this; }
+        /** Copies the {@code iPixelType} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getIPixelType(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.IPIXELTYPE, dst); return this; }
+        /** Copies the {@code cColorBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCColorBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CCOLORBITS, dst); return this; }
+        /** Copies the {@code cColorBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCColorBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CCOLORBITS, dst); return this; }
+        /** Copies the {@code cRedBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCRedBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CREDBITS, dst); return this; }
+        /** Copies the {@code cRedBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCRedBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CREDBITS, dst); return this; }
+        /** Copies the {@code cRedShift} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCRedShift(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CREDSHIFT, dst); return this; }
+        /** Copies the {@code cRedShift} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCRedShift(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CREDSHIFT, dst); return this; }
+        /** Copies the {@code cGreenBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCGreenBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CGREENBITS, dst); return this; }
+        /** Copies the {@code cGreenBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCGreenBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CGREENBITS, dst); return this; }
+        /** Copies the {@code cGreenShift} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCGreenShift(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CGREENSHIFT, dst); return this; }
+        /** Copies the {@code cGreenShift} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCGreenShift(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CGREENSHIFT, dst); return this; }
+        /** Copies the {@code cBlueBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCBlueBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CBLUEBITS, dst); return this; }
+        /** Copies the {@code cBlueBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCBlueBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CBLUEBITS, dst); return this; }
+        /** Copies the {@code cBlueShift} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCBlueShift(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CBLUESHIFT, dst); return this; }
+        /** Copies the {@code cBlueShift} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCBlueShift(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CBLUESHIFT, dst); return this; }
+        /** Copies the {@code cAlphaBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAlphaBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CALPHABITS, dst); return this; }
+        /** Copies the {@code cAlphaBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAlphaBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CALPHABITS, dst); return this; }
+        /** Copies the {@code cAlphaShift} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAlphaShift(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CALPHASHIFT, dst); return this; }
+        /** Copies the {@code cAlphaShift} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAlphaShift(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CALPHASHIFT, dst); return this; }
+        /** Copies the {@code cAccumBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMBITS, dst); return this; }
+        /** Copies the {@code cAccumBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMBITS, dst); return this; }
+        /** Copies the {@code cAccumRedBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumRedBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMREDBITS, dst); return this; }
+        /** Copies the {@code cAccumRedBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumRedBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMREDBITS, dst); return this; }
+        /** Copies the {@code cAccumGreenBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumGreenBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMGREENBITS, dst); return this; }
+        /** Copies the {@code cAccumGreenBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumGreenBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMGREENBITS, dst); return this; }
+        /** Copies the {@code cAccumBlueBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumBlueBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMBLUEBITS, dst); return this; }
+        /** Copies the {@code cAccumBlueBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumBlueBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMBLUEBITS, dst); return this; }
+        /** Copies the {@code cAccumAlphaBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumAlphaBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMALPHABITS, dst); return this; }
+        /** Copies the {@code cAccumAlphaBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAccumAlphaBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CACCUMALPHABITS, dst); return this; }
+        /** Copies the {@code cDepthBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCDepthBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CDEPTHBITS, dst); return this; }
+        /** Copies the {@code cDepthBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCDepthBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CDEPTHBITS, dst); return this; }
+        /** Copies the {@code cStencilBits} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCStencilBits(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CSTENCILBITS, dst); return this; }
+        /** Copies the {@code cStencilBits} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCStencilBits(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CSTENCILBITS, dst); return this; }
+        /** Copies the {@code cAuxBuffers} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAuxBuffers(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.CAUXBUFFERS, dst); return this; }
+        /** Copies the {@code cAuxBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getCAuxBuffers(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.CAUXBUFFERS, dst); return this; }
+        /** Copies the {@code iLayerType} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getILayerType(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.ILAYERTYPE, dst); return this; }
+        /** Copies the {@code iLayerType} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getILayerType(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.ILAYERTYPE, dst); return this; }
+        /** Copies the {@code bReserved} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getBReserved(byte[] dst) { gather(PIXELFORMATDESCRIPTOR.BRESERVED, dst); return this; }
+        /** Copies the {@code bReserved} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getBReserved(ByteBuffer dst) { gather(PIXELFORMATDESCRIPTOR.BRESERVED, dst); return this; }
+        /** Copies the {@code dwLayerMask} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwLayerMask(int[] dst) { gather(PIXELFORMATDESCRIPTOR.DWLAYERMASK, dst); return this; }
+        /** Copies the {@code dwLayerMask} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwLayerMask(IntBuffer dst) { gather(PIXELFORMATDESCRIPTOR.DWLAYERMASK, dst); return this; }
+        /** Copies the {@code dwVisibleMask} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwVisibleMask(int[] dst) { gather(PIXELFORMATDESCRIPTOR.DWVISIBLEMASK, dst); return this; }
+        /** Copies the {@code dwVisibleMask} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwVisibleMask(IntBuffer dst) { gather(PIXELFORMATDESCRIPTOR.DWVISIBLEMASK, dst); return this; }
+        /** Copies the {@code dwDamageMask} field of the structs between the current position and limit to the specified array. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwDamageMask(int[] dst) { gather(PIXELFORMATDESCRIPTOR.DWDAMAGEMASK, dst); return this; }
+        /** Copies the {@code dwDamageMask} field of the structs between the current position and limit to the specified buffer. */
+        public PIXELFORMATDESCRIPTOR.Buffer getDwDamageMask(IntBuffer dst) { gather(PIXELFORMATDESCRIPTOR.DWDAMAGEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code nSize} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putNSize(short[] src) { scatter(PIXELFORMATDESCRIPTOR.NSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nSize} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putNSize(ShortBuffer src) { scatter(PIXELFORMATDESCRIPTOR.NSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code nVersion} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putNVersion(short[] src) { scatter(PIXELFORMATDESCRIPTOR.NVERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nVersion} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putNVersion(ShortBuffer src) { scatter(PIXELFORMATDESCRIPTOR.NVERSION, src); return this; }
+        /** Copies the values in the specified array to the {@code dwFlags} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwFlags(int[] src) { scatter(PIXELFORMATDESCRIPTOR.DWFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwFlags} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwFlags(IntBuffer src) { scatter(PIXELFORMATDESCRIPTOR.DWFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code iPixelType} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putIPixelType(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.IPIXELTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code iPixelType} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putIPixelType(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.IPIXELTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code cColorBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCColorBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CCOLORBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cColorBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCColorBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CCOLORBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cRedBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCRedBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CREDBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cRedBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCRedBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CREDBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cRedShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCRedShift(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CREDSHIFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cRedShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCRedShift(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CREDSHIFT, src); return this; }
+        /** Copies the values in the specified array to the {@code cGreenBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCGreenBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CGREENBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cGreenBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCGreenBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CGREENBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cGreenShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCGreenShift(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CGREENSHIFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cGreenShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCGreenShift(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CGREENSHIFT, src); return this; }
+        /** Copies the values in the specified array to the {@code cBlueBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCBlueBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CBLUEBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cBlueBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCBlueBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CBLUEBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cBlueShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCBlueShift(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CBLUESHIFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cBlueShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCBlueShift(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CBLUESHIFT, src); return this; }
+        /** Copies the values in the specified array to the {@code cAlphaBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAlphaBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CALPHABITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAlphaBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAlphaBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CALPHABITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cAlphaShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAlphaShift(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CALPHASHIFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAlphaShift} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAlphaShift(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CALPHASHIFT, src); return this; }
+        /** Copies the values in the specified array to the {@code cAccumBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAccumBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cAccumRedBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumRedBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMREDBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAccumRedBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumRedBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMREDBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cAccumGreenBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumGreenBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMGREENBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAccumGreenBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumGreenBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMGREENBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cAccumBlueBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumBlueBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMBLUEBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAccumBlueBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumBlueBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMBLUEBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cAccumAlphaBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumAlphaBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMALPHABITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAccumAlphaBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAccumAlphaBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CACCUMALPHABITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cDepthBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCDepthBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CDEPTHBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cDepthBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCDepthBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CDEPTHBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cStencilBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCStencilBits(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CSTENCILBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cStencilBits} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCStencilBits(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CSTENCILBITS, src); return this; }
+        /** Copies the values in the specified array to the {@code cAuxBuffers} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAuxBuffers(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.CAUXBUFFERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cAuxBuffers} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putCAuxBuffers(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.CAUXBUFFERS, src); return this; }
+        /** Copies the values in the specified array to the {@code iLayerType} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putILayerType(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.ILAYERTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code iLayerType} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putILayerType(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.ILAYERTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code bReserved} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putBReserved(byte[] src) { scatter(PIXELFORMATDESCRIPTOR.BRESERVED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bReserved} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putBReserved(ByteBuffer src) { scatter(PIXELFORMATDESCRIPTOR.BRESERVED, src); return this; }
+        /** Copies the values in the specified array to the {@code dwLayerMask} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwLayerMask(int[] src) { scatter(PIXELFORMATDESCRIPTOR.DWLAYERMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwLayerMask} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwLayerMask(IntBuffer src) { scatter(PIXELFORMATDESCRIPTOR.DWLAYERMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dwVisibleMask} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwVisibleMask(int[] src) { scatter(PIXELFORMATDESCRIPTOR.DWVISIBLEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwVisibleMask} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwVisibleMask(IntBuffer src) { scatter(PIXELFORMATDESCRIPTOR.DWVISIBLEMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dwDamageMask} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwDamageMask(int[] src) { scatter(PIXELFORMATDESCRIPTOR.DWDAMAGEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwDamageMask} field of the structs between the current position and limit. */
+        public PIXELFORMATDESCRIPTOR.Buffer putDwDamageMask(IntBuffer src) { scatter(PIXELFORMATDESCRIPTOR.DWDAMAGEMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -210,6 +210,24 @@ public class POINT extends Struct implements NativeResource {
         return wrap(POINT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code POINT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static POINT malloc(MemoryArena arena) {
+        return wrap(POINT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code POINT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static POINT calloc(MemoryArena arena) {
+        return wrap(POINT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link POINT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class POINT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link POINT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static POINT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link POINT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static POINT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -310,6 +348,24 @@ public class POINT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public POINT.Buffer y(@NativeType("LONG") int value) { POINT.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public POINT.Buffer getX(int[] dst) { gather(POINT.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public POINT.Buffer getX(IntBuffer dst) { gather(POINT.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public POINT.Buffer getY(int[] dst) { gather(POINT.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public POINT.Buffer getY(IntBuffer dst) { gather(POINT.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public POINT.Buffer putX(int[] src) { scatter(POINT.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public POINT.Buffer putX(IntBuffer src) { scatter(POINT.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public POINT.Buffer putY(int[] src) { scatter(POINT.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public POINT.Buffer putY(IntBuffer src) { scatter(POINT.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -210,6 +210,24 @@ public class POINTL extends Struct implements NativeResource {
         return wrap(POINTL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code POINTL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static POINTL malloc(MemoryArena arena) {
+        return wrap(POINTL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code POINTL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static POINTL calloc(MemoryArena arena) {
+        return wrap(POINTL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link POINTL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class POINTL extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link POINTL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static POINTL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link POINTL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static POINTL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -310,6 +348,24 @@ public class POINTL extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public POINTL.Buffer y(@NativeType("LONG") int value) { POINTL.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public POINTL.Buffer getX(int[] dst) { gather(POINTL.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public POINTL.Buffer getX(IntBuffer dst) { gather(POINTL.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public POINTL.Buffer getY(int[] dst) { gather(POINTL.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public POINTL.Buffer getY(IntBuffer dst) { gather(POINTL.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public POINTL.Buffer putX(int[] src) { scatter(POINTL.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public POINTL.Buffer putX(IntBuffer src) { scatter(POINTL.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public POINTL.Buffer putY(int[] src) { scatter(POINTL.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public POINTL.Buffer putY(IntBuffer src) { scatter(POINTL.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
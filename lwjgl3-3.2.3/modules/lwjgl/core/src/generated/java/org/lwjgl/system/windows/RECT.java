@@ -234,6 +234,24 @@ public class RECT extends Struct implements NativeResource {
         return wrap(RECT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RECT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RECT malloc(MemoryArena arena) {
+        return wrap(RECT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RECT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RECT calloc(MemoryArena arena) {
+        return wrap(RECT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link RECT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class RECT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link RECT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RECT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link RECT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RECT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #left}. */
@@ -352,6 +390,40 @@ public class RECT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code bottom} field. */
         public RECT.Buffer bottom(@NativeType("LONG") int value) { RECT.nbottom(address(), value); return this; }
 
+        /** Copies the {@code left} field of the structs between the current position and limit to the specified array. */
+        public RECT.Buffer getLeft(int[] dst) { gather(RECT.LEFT, dst); return this; }
+        /** Copies the {@code left} field of the structs between the current position and limit to the specified buffer. */
+        public RECT.Buffer getLeft(IntBuffer dst) { gather(RECT.LEFT, dst); return this; }
+        /** Copies the {@code top} field of the structs between the current position and limit to the specified array. */
+        public RECT.Buffer getTop(int[] dst) { gather(RECT.TOP, dst); return this; }
+        /** Copies the {@code top} field of the structs between the current position and limit to the specified buffer. */
+        public RECT.Buffer getTop(IntBuffer dst) { gather(RECT.TOP, dst); return this; }
+        /** Copies the {@code right} field of the structs between the current position and limit to the specified array. */
+        public RECT.Buffer getRight(int[] dst) { gather(RECT.RIGHT, dst); return this; }
+        /** Copies the {@code right} field of the structs between the current position and limit to the specified buffer. */
+        public RECT.Buffer getRight(IntBuffer dst) { gather(RECT.RIGHT, dst); return this; }
+        /** Copies the {@code bottom} field of the structs between the current position and limit to the specified array. */
+        public RECT.Buffer getBottom(int[] dst) { gather(RECT.BOTTOM, dst); return this; }
+        /** Copies the {@code bottom} field of the structs between the current position and limit to the specified buffer. */
+        public RECT.Buffer getBottom(IntBuffer dst) { gather(RECT.BOTTOM, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code left} field of the structs between the current position and limit. */
+        public RECT.Buffer putLeft(int[] src) { scatter(RECT.LEFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code left} field of the structs between the current position and limit. */
+        public RECT.Buffer putLeft(IntBuffer src) { scatter(RECT.LEFT, src); return this; }
+        /** Copies the values in the specified array to the {@code top} field of the structs between the current position and limit. */
+        public RECT.Buffer putTop(int[] src) { scatter(RECT.TOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code top} field of the structs between the current position and limit. */
+        public RECT.Buffer putTop(IntBuffer src) { scatter(RECT.TOP, src); return this; }
+        /** Copies the values in the specified array to the {@code right} field of the structs between the current position and limit. */
+        public RECT.Buffer putRight(int[] src) { scatter(RECT.RIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code right} field of the structs between the current position and limit. */
+        public RECT.Buffer putRight(IntBuffer src) { scatter(RECT.RIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code bottom} field of the structs between the current position and limit. */
+        public RECT.Buffer putBottom(int[] src) { scatter(RECT.BOTTOM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bottom} field of the structs between the current position and limit. */
+        public RECT.Buffer putBottom(IntBuffer src) { scatter(RECT.BOTTOM, src); return this; }
+
     }
 
 }
\ No newline at end of file
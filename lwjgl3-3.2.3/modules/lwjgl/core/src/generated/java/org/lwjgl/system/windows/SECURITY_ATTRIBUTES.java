@@ -229,6 +229,24 @@ public class SECURITY_ATTRIBUTES extends Struct implements NativeResource {
         return wrap(SECURITY_ATTRIBUTES.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SECURITY_ATTRIBUTES} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SECURITY_ATTRIBUTES malloc(MemoryArena arena) {
+        return wrap(SECURITY_ATTRIBUTES.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SECURITY_ATTRIBUTES} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SECURITY_ATTRIBUTES calloc(MemoryArena arena) {
+        return wrap(SECURITY_ATTRIBUTES.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SECURITY_ATTRIBUTES.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class SECURITY_ATTRIBUTES extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SECURITY_ATTRIBUTES.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SECURITY_ATTRIBUTES.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SECURITY_ATTRIBUTES.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SECURITY_ATTRIBUTES.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #nLength}. */
@@ -359,6 +397,16 @@ public class SECURITY_ATTRIBUTES extends Struct implements NativeResource {
         /** Sets the specified value to the {@code bInheritHandle} field. */
         public SECURITY_ATTRIBUTES.Buffer bInheritHandle(@NativeType("BOOL") boolean value) { SECURITY_ATTRIBUTES.nbInheritHandle(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code nLength} field of the structs between the current position and limit to the specified array. */
+        public SECURITY_ATTRIBUTES.Buffer getNLength(int[] dst) { gather(SECURITY_ATTRIBUTES.NLENGTH, dst); return this; }
+        /** Copies the {@code nLength} field of the structs between the current position and limit to the specified buffer. */
+        public SECURITY_ATTRIBUTES.Buffer getNLength(IntBuffer dst) { gather(SECURITY_ATTRIBUTES.NLENGTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code nLength} field of the structs between the current position and limit. */
+        public SECURITY_ATTRIBUTES.Buffer putNLength(int[] src) { scatter(SECURITY_ATTRIBUTES.NLENGTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nLength} field of the structs between the current position and limit. */
+        public SECURITY_ATTRIBUTES.Buffer putNLength(IntBuffer src) { scatter(SECURITY_ATTRIBUTES.NLENGTH, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -260,6 +260,24 @@ public class TOUCHINPUT extends Struct implements NativeResource {
         return wrap(TOUCHINPUT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code TOUCHINPUT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static TOUCHINPUT malloc(MemoryArena arena) {
+        return wrap(TOUCHINPUT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code TOUCHINPUT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static TOUCHINPUT calloc(MemoryArena arena) {
+        return wrap(TOUCHINPUT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link TOUCHINPUT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -298,6 +316,26 @@ public class TOUCHINPUT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link TOUCHINPUT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static TOUCHINPUT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link TOUCHINPUT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static TOUCHINPUT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -390,6 +428,39 @@ public class TOUCHINPUT extends Struct implements NativeResource {
         @NativeType("DWORD")
         public int cyContact() { return TOUCHINPUT.ncyContact(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getX(int[] dst) { gather(TOUCHINPUT.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getX(IntBuffer dst) { gather(TOUCHINPUT.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getY(int[] dst) { gather(TOUCHINPUT.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getY(IntBuffer dst) { gather(TOUCHINPUT.Y, dst); return this; }
+        /** Copies the {@code dwID} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getDwID(int[] dst) { gather(TOUCHINPUT.DWID, dst); return this; }
+        /** Copies the {@code dwID} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getDwID(IntBuffer dst) { gather(TOUCHINPUT.DWID, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getDwFlags(int[] dst) { gather(TOUCHINPUT.DWFLAGS, dst); return this; }
+        /** Copies the {@code dwFlags} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getDwFlags(IntBuffer dst) { gather(TOUCHINPUT.DWFLAGS, dst); return this; }
+        /** Copies the {@code dwMask} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getDwMask(int[] dst) { gather(TOUCHINPUT.DWMASK, dst); return this; }
+        /** Copies the {@code dwMask} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getDwMask(IntBuffer dst) { gather(TOUCHINPUT.DWMASK, dst); return this; }
+        /** Copies the {@code dwTime} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getDwTime(int[] dst) { gather(TOUCHINPUT.DWTIME, dst); return this; }
+        /** Copies the {@code dwTime} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getDwTime(IntBuffer dst) { gather(TOUCHINPUT.DWTIME, dst); return this; }
+        /** Copies the {@code cxContact} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getCxContact(int[] dst) { gather(TOUCHINPUT.CXCONTACT, dst); return this; }
+        /** Copies the {@code cxContact} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getCxContact(IntBuffer dst) { gather(TOUCHINPUT.CXCONTACT, dst); return this; }
+        /** Copies the {@code cyContact} field of the structs between the current position and limit to the specified array. */
+        public TOUCHINPUT.Buffer getCyContact(int[] dst) { gather(TOUCHINPUT.CYCONTACT, dst); return this; }
+        /** Copies the {@code cyContact} field of the structs between the current position and limit to the specified buffer. */
+        public TOUCHINPUT.Buffer getCyContact(IntBuffer dst) { gather(TOUCHINPUT.CYCONTACT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -263,6 +263,24 @@ public class WINDOWPLACEMENT extends Struct implements NativeResource {
         return wrap(WINDOWPLACEMENT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code WINDOWPLACEMENT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static WINDOWPLACEMENT malloc(MemoryArena arena) {
+        return wrap(WINDOWPLACEMENT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code WINDOWPLACEMENT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static WINDOWPLACEMENT calloc(MemoryArena arena) {
+        return wrap(WINDOWPLACEMENT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link WINDOWPLACEMENT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class WINDOWPLACEMENT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link WINDOWPLACEMENT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static WINDOWPLACEMENT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link WINDOWPLACEMENT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static WINDOWPLACEMENT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #length}. */
@@ -402,6 +440,32 @@ public class WINDOWPLACEMENT extends Struct implements NativeResource {
         /** Passes the {@code rcNormalPosition} field to the specified {@link java.util.function.Consumer Consumer}. */
         public WINDOWPLACEMENT.Buffer rcNormalPosition(java.util.function.Consumer<RECT> consumer) { consumer.accept(rcNormalPosition()); return this; }
 
+        /** Copies the {@code length} field of the structs between the current position and limit to the specified array. */
+        public WINDOWPLACEMENT.Buffer getLength(int[] dst) { gather(WINDOWPLACEMENT.LENGTH, dst); return this; }
+        /** Copies the {@code length} field of the structs between the current position and limit to the specified buffer. */
+        public WINDOWPLACEMENT.Buffer getLength(IntBuffer dst) { gather(WINDOWPLACEMENT.LENGTH, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public WINDOWPLACEMENT.Buffer getFlags(int[] dst) { gather(WINDOWPLACEMENT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public WINDOWPLACEMENT.Buffer getFlags(IntBuffer dst) { gather(WINDOWPLACEMENT.FLAGS, dst); return this; }
+        /** Copies the {@code showCmd} field of the structs between the current position and limit to the specified array. */
+        public WINDOWPLACEMENT.Buffer getShowCmd(int[] dst) { gather(WINDOWPLACEMENT.SHOWCMD, dst); return this; }
+        /** Copies the {@code showCmd} field of the structs between the current position and limit to the specified buffer. */
+        public WINDOWPLACEMENT.Buffer getShowCmd(IntBuffer dst) { gather(WINDOWPLACEMENT.SHOWCMD, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code length} field of the structs between the current position and limit. */
+        public WINDOWPLACEMENT.Buffer putLength(int[] src) { scatter(WINDOWPLACEMENT.LENGTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code length} field of the structs between the current position and limit. */
+        public WINDOWPLACEMENT.Buffer putLength(IntBuffer src) { scatter(WINDOWPLACEMENT.LENGTH, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public WINDOWPLACEMENT.Buffer putFlags(int[] src) { scatter(WINDOWPLACEMENT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public WINDOWPLACEMENT.Buffer putFlags(IntBuffer src) { scatter(WINDOWPLACEMENT.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code showCmd} field of the structs between the current position and limit. */
+        public WINDOWPLACEMENT.Buffer putShowCmd(int[] src) { scatter(WINDOWPLACEMENT.SHOWCMD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code showCmd} field of the structs between the current position and limit. */
+        public WINDOWPLACEMENT.Buffer putShowCmd(IntBuffer src) { scatter(WINDOWPLACEMENT.SHOWCMD, src); return this; }
+
     }
 
 }
\ No newline at end of file
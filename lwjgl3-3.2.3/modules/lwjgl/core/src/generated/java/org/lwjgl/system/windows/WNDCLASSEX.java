@@ -345,6 +345,24 @@ public class WNDCLASSEX extends Struct implements NativeResource {
         return wrap(WNDCLASSEX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code WNDCLASSEX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static WNDCLASSEX malloc(MemoryArena arena) {
+        return wrap(WNDCLASSEX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code WNDCLASSEX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static WNDCLASSEX calloc(MemoryArena arena) {
+        return wrap(WNDCLASSEX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link WNDCLASSEX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -383,6 +401,26 @@ public class WNDCLASSEX extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link WNDCLASSEX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static WNDCLASSEX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link WNDCLASSEX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static WNDCLASSEX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #cbSize}. */
@@ -574,6 +612,40 @@ public class WNDCLASSEX extends Struct implements NativeResource {
         /** Sets the specified value to the {@code hIconSm} field. */
         public WNDCLASSEX.Buffer hIconSm(@NativeType("HICON") long value) { WNDCLASSEX.nhIconSm(address(), value); return this; }
 
+        /** Copies the {@code cbSize} field of the structs between the current position and limit to the specified array. */
+        public WNDCLASSEX.Buffer getCbSize(int[] dst) { gather(WNDCLASSEX.CBSIZE, dst); return this; }
+        /** Copies the {@code cbSize} field of the structs between the current position and limit to the specified buffer. */
+        public WNDCLASSEX.Buffer getCbSize(IntBuffer dst) { gather(WNDCLASSEX.CBSIZE, dst); return this; }
+        /** Copies the {@code style} field of the structs between the current position and limit to the specified array. */
+        public WNDCLASSEX.Buffer getStyle(int[] dst) { gather(WNDCLASSEX.STYLE, dst); return this; }
+        /** Copies the {@code style} field of the structs between the current position and limit to the specified buffer. */
+        public WNDCLASSEX.Buffer getStyle(IntBuffer dst) { gather(WNDCLASSEX.STYLE, dst); return this; }
+        /** Copies the {@code cbClsExtra} field of the structs between the current position and limit to the specified array. */
+        public WNDCLASSEX.Buffer getCbClsExtra(int[] dst) { gather(WNDCLASSEX.CBCLSEXTRA, dst); return this; }
+        /** Copies the {@code cbClsExtra} field of the structs between the current position and limit to the specified buffer. */
+        public WNDCLASSEX.Buffer getCbClsExtra(IntBuffer dst) { gather(WNDCLASSEX.CBCLSEXTRA, dst); return this; }
+        /** Copies the {@code cbWndExtra} field of the structs between the current position and limit to the specified array. */
+        public WNDCLASSEX.Buffer getCbWndExtra(int[] dst) { gather(WNDCLASSEX.CBWNDEXTRA, dst); return this; }
+        /** Copies the {@code cbWndExtra} field of the structs between the current position and limit to the specified buffer. */
+        public WNDCLASSEX.Buffer getCbWndExtra(IntBuffer dst) { gather(WNDCLASSEX.CBWNDEXTRA, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code cbSize} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putCbSize(int[] src) { scatter(WNDCLASSEX.CBSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cbSize} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putCbSize(IntBuffer src) { scatter(WNDCLASSEX.CBSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code style} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putStyle(int[] src) { scatter(WNDCLASSEX.STYLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code style} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putStyle(IntBuffer src) { scatter(WNDCLASSEX.STYLE, src); return this; }
+        /** Copies the values in the specified array to the {@code cbClsExtra} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putCbClsExtra(int[] src) { scatter(WNDCLASSEX.CBCLSEXTRA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cbClsExtra} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putCbClsExtra(IntBuffer src) { scatter(WNDCLASSEX.CBCLSEXTRA, src); return this; }
+        /** Copies the values in the specified array to the {@code cbWndExtra} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putCbWndExtra(int[] src) { scatter(WNDCLASSEX.CBWNDEXTRA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cbWndExtra} field of the structs between the current position and limit. */
+        public WNDCLASSEX.Buffer putCbWndExtra(IntBuffer src) { scatter(WNDCLASSEX.CBWNDEXTRA, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,46 @@ public class WinBase {
         FALSE = 0,
         TRUE  = 1;
 
+    /** The handle value returned by {@link #CreateFile} on failure. */
+    public static final long INVALID_HANDLE_VALUE = 0xFFFFFFFFFFFFFFFFL;
+
+    /** Generic access rights, used by the {@code desiredAccess} argument to {@link #CreateFile}. */
+    public static final int
+        GENERIC_READ  = 0x80000000,
+        GENERIC_WRITE = 0x40000000;
+
+    /** The {@code shareMode} argument to {@link #CreateFile}. */
+    public static final int
+        FILE_SHARE_READ   = 0x1,
+        FILE_SHARE_WRITE  = 0x2,
+        FILE_SHARE_DELETE = 0x4;
+
+    /** The {@code creationDisposition} argument to {@link #CreateFile}. */
+    public static final int
+        CREATE_NEW        = 1,
+        CREATE_ALWAYS     = 2,
+        OPEN_EXISTING     = 3,
+        OPEN_ALWAYS       = 4,
+        TRUNCATE_EXISTING = 5;
+
+    /** The {@code flagsAndAttributes} argument to {@link #CreateFile}. */
+    public static final int
+        FILE_ATTRIBUTE_NORMAL     = 0x80,
+        FILE_FLAG_RANDOM_ACCESS   = 0x10000000,
+        FILE_FLAG_SEQUENTIAL_SCAN = 0x8000000;
+
+    /** The {@code protect} argument to {@link #CreateFileMapping}. */
+    public static final int
+        PAGE_READONLY  = 0x2,
+        PAGE_READWRITE = 0x4,
+        PAGE_WRITECOPY = 0x8;
+
+    /** The {@code desiredAccess} argument to {@link #MapViewOfFile}. */
+    public static final int
+        FILE_MAP_COPY  = 0x1,
+        FILE_MAP_WRITE = 0x2,
+        FILE_MAP_READ  = 0x4;
+
     static { Library.initialize(); }
 
     protected WinBase() {
@@ -219,4 +259,174 @@ public class WinBase {
         return nFreeLibrary(handle) != 0;
     }
 
+    // --- [ CreateFile ] ---
+
+    /** Unsafe version of: {@link #CreateFile} */
+    public static native long nCreateFile(long fileName, int desiredAccess, int shareMode, long securityAttributes, int creationDisposition, int flagsAndAttributes, long templateFile);
+
+    /**
+     * Opens a file or I/O device.
+     *
+     * @param fileName            the name of the file or device to be opened
+     * @param desiredAccess       the requested access to the file or device. One or more of:<br><table><tr><td>{@link #GENERIC_READ}</td><td>{@link #GENERIC_WRITE}</td></tr></table>
+     * @param shareMode           the requested sharing mode of the file or device. One or more of:<br><table><tr><td>{@link #FILE_SHARE_READ}</td><td>{@link #FILE_SHARE_WRITE}</td><td>{@link #FILE_SHARE_DELETE}</td></tr></table>
+     * @param securityAttributes  a pointer to a {@link SECURITY_ATTRIBUTES} structure that determines whether the returned handle can be inherited by child processes, or {@code NULL}
+     * @param creationDisposition an action to take on a file or device that exists or does not exist. One of:<br><table><tr><td>{@link #CREATE_NEW}</td><td>{@link #CREATE_ALWAYS}</td><td>{@link #OPEN_EXISTING}</td><td>{@link #OPEN_ALWAYS}</td><td>{@link #TRUNCATE_EXISTING}</td></tr></table>
+     * @param flagsAndAttributes  the file or device attributes and flags. One or more of:<br><table><tr><td>{@link #FILE_ATTRIBUTE_NORMAL}</td><td>{@link #FILE_FLAG_RANDOM_ACCESS}</td><td>{@link #FILE_FLAG_SEQUENTIAL_SCAN}</td></tr></table>
+     * @param templateFile        a valid handle to a template file with the {@code GENERIC_READ} access right, or {@code NULL}
+     *
+     * @return an open handle to the specified file, or {@link #INVALID_HANDLE_VALUE} if the function fails
+     */
+    @NativeType("HANDLE")
+    public static long CreateFile(@NativeType("LPCTSTR") ByteBuffer fileName, @NativeType("DWORD") int desiredAccess, @NativeType("DWORD") int shareMode, @Nullable @NativeType("SECURITY_ATTRIBUTES *") SECURITY_ATTRIBUTES securityAttributes, @NativeType("DWORD") int creationDisposition, @NativeType("DWORD") int flagsAndAttributes, @NativeType("HANDLE") long templateFile) {
+        if (CHECKS) {
+            checkNT2(fileName);
+        }
+        return nCreateFile(memAddress(fileName), desiredAccess, shareMode, memAddressSafe(securityAttributes), creationDisposition, flagsAndAttributes, templateFile);
+    }
+
+    /**
+     * Opens a file or I/O device.
+     *
+     * @param fileName            the name of the file or device to be opened
+     * @param desiredAccess       the requested access to the file or device. One or more of:<br><table><tr><td>{@link #GENERIC_READ}</td><td>{@link #GENERIC_WRITE}</td></tr></table>
+     * @param shareMode           the requested sharing mode of the file or device. One or more of:<br><table><tr><td>{@link #FILE_SHARE_READ}</td><td>{@link #FILE_SHARE_WRITE}</td><td>{@link #FILE_SHARE_DELETE}</td></tr></table>
+     * @param securityAttributes  a pointer to a {@link SECURITY_ATTRIBUTES} structure that determines whether the returned handle can be inherited by child processes, or {@code NULL}
+     * @param creationDisposition an action to take on a file or device that exists or does not exist. One of:<br><table><tr><td>{@link #CREATE_NEW}</td><td>{@link #CREATE_ALWAYS}</td><td>{@link #OPEN_EXISTING}</td><td>{@link #OPEN_ALWAYS}</td><td>{@link #TRUNCATE_EXISTING}</td></tr></table>
+     * @param flagsAndAttributes  the file or device attributes and flags. One or more of:<br><table><tr><td>{@link #FILE_ATTRIBUTE_NORMAL}</td><td>{@link #FILE_FLAG_RANDOM_ACCESS}</td><td>{@link #FILE_FLAG_SEQUENTIAL_SCAN}</td></tr></table>
+     * @param templateFile        a valid handle to a template file with the {@code GENERIC_READ} access right, or {@code NULL}
+     *
+     * @return an open handle to the specified file, or {@link #INVALID_HANDLE_VALUE} if the function fails
+     */
+    @NativeType("HANDLE")
+    public static long CreateFile(@NativeType("LPCTSTR") CharSequence fileName, @NativeType("DWORD") int desiredAccess, @NativeType("DWORD") int shareMode, @Nullable @NativeType("SECURITY_ATTRIBUTES *") SECURITY_ATTRIBUTES securityAttributes, @NativeType("DWORD") int creationDisposition, @NativeType("DWORD") int flagsAndAttributes, @NativeType("HANDLE") long templateFile) {
+        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        try {
+            stack.nUTF16(fileName, true);
+            long fileNameEncoded = stack.getPointerAddress();
+            return nCreateFile(fileNameEncoded, desiredAccess, shareMode, memAddressSafe(securityAttributes), creationDisposition, flagsAndAttributes, templateFile);
+        } finally {
+            stack.setPointer(stackPointer);
+        }
+    }
+
+    // --- [ CreateFileMapping ] ---
+
+    /** Unsafe version of: {@link #CreateFileMapping} */
+    public static native long nCreateFileMapping(long file, long fileMappingAttributes, int protect, int maximumSizeHigh, int maximumSizeLow, long name);
+
+    /**
+     * Creates or opens a named or unnamed file mapping object for a specified file.
+     *
+     * @param file                  a handle to the file from which to create a file mapping object
+     * @param fileMappingAttributes a pointer to a {@link SECURITY_ATTRIBUTES} structure that determines whether the returned handle can be inherited by child processes, or {@code NULL}
+     * @param protect               the page protection of the file mapping object. One of:<br><table><tr><td>{@link #PAGE_READONLY}</td><td>{@link #PAGE_READWRITE}</td><td>{@link #PAGE_WRITECOPY}</td></tr></table>
+     * @param maximumSizeHigh       the high-order {@code DWORD} of the maximum size of the file mapping object
+     * @param maximumSizeLow        the low-order {@code DWORD} of the maximum size of the file mapping object. If this parameter and {@code maximumSizeHigh} are 0 (zero), the
+     *                              maximum size of the file mapping object is equal to the current size of the file.
+     * @param name                  the name of the file mapping object, or {@code NULL} to create an unnamed object
+     *
+     * @return a handle to the newly created file mapping object, or {@code NULL} if the function fails
+     */
+    @NativeType("HANDLE")
+    public static long CreateFileMapping(@NativeType("HANDLE") long file, @Nullable @NativeType("SECURITY_ATTRIBUTES *") SECURITY_ATTRIBUTES fileMappingAttributes, @NativeType("DWORD") int protect, @NativeType("DWORD") int maximumSizeHigh, @NativeType("DWORD") int maximumSizeLow, @Nullable @NativeType("LPCTSTR") ByteBuffer name) {
+        if (CHECKS) {
+            check(file);
+            checkNT2Safe(name);
+        }
+        return nCreateFileMapping(file, memAddressSafe(fileMappingAttributes), protect, maximumSizeHigh, maximumSizeLow, memAddressSafe(name));
+    }
+
+    /**
+     * Creates or opens a named or unnamed file mapping object for a specified file.
+     *
+     * @param file                  a handle to the file from which to create a file mapping object
+     * @param fileMappingAttributes a pointer to a {@link SECURITY_ATTRIBUTES} structure that determines whether the returned handle can be inherited by child processes, or {@code NULL}
+     * @param protect               the page protection of the file mapping object. One of:<br><table><tr><td>{@link #PAGE_READONLY}</td><td>{@link #PAGE_READWRITE}</td><td>{@link #PAGE_WRITECOPY}</td></tr></table>
+     * @param maximumSizeHigh       the high-order {@code DWORD} of the maximum size of the file mapping object
+     * @param maximumSizeLow        the low-order {@code DWORD} of the maximum size of the file mapping object. If this parameter and {@code maximumSizeHigh} are 0 (zero), the
+     *                              maximum size of the file mapping object is equal to the current size of the file.
+     * @param name                  the name of the file mapping object, or {@code NULL} to create an unnamed object
+     *
+     * @return a handle to the newly created file mapping object, or {@code NULL} if the function fails
+     */
+    @NativeType("HANDLE")
+    public static long CreateFileMapping(@NativeType("HANDLE") long file, @Nullable @NativeType("SECURITY_ATTRIBUTES *") SECURITY_ATTRIBUTES fileMappingAttributes, @NativeType("DWORD") int protect, @NativeType("DWORD") int maximumSizeHigh, @NativeType("DWORD") int maximumSizeLow, @Nullable @NativeType("LPCTSTR") CharSequence name) {
+        if (CHECKS) {
+            check(file);
+        }
+        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        try {
+            stack.nUTF16Safe(name, true);
+            long nameEncoded = name == null ? NULL : stack.getPointerAddress();
+            return nCreateFileMapping(file, memAddressSafe(fileMappingAttributes), protect, maximumSizeHigh, maximumSizeLow, nameEncoded);
+        } finally {
+            stack.setPointer(stackPointer);
+        }
+    }
+
+    // --- [ MapViewOfFile ] ---
+
+    /** Unsafe version of: {@link #MapViewOfFile} */
+    public static native long nMapViewOfFile(long fileMappingObject, int desiredAccess, int fileOffsetHigh, int fileOffsetLow, long numberOfBytesToMap);
+
+    /**
+     * Maps a view of a file mapping into the address space of a calling process.
+     *
+     * @param fileMappingObject  a handle to a file mapping object
+     * @param desiredAccess      the type of access to a file mapping object, which determines the page protection of the pages. One or more of:<br><table><tr><td>{@link #FILE_MAP_COPY}</td><td>{@link #FILE_MAP_WRITE}</td><td>{@link #FILE_MAP_READ}</td></tr></table>
+     * @param fileOffsetHigh     a high-order {@code DWORD} of the file offset where the view begins
+     * @param fileOffsetLow      a low-order {@code DWORD} of the file offset where the view is to begin. The combination of the high and low offsets must specify an offset within
+     *                           the file mapping. They must also match the memory allocation granularity of the system.
+     * @param numberOfBytesToMap the number of bytes of a file mapping to map to the view, or 0 to map the entire file mapping
+     *
+     * @return the starting address of the mapped view, or {@code NULL} if the function fails
+     */
+    @NativeType("LPVOID")
+    public static long MapViewOfFile(@NativeType("HANDLE") long fileMappingObject, @NativeType("DWORD") int desiredAccess, @NativeType("DWORD") int fileOffsetHigh, @NativeType("DWORD") int fileOffsetLow, @NativeType("SIZE_T") long numberOfBytesToMap) {
+        if (CHECKS) {
+            check(fileMappingObject);
+        }
+        return nMapViewOfFile(fileMappingObject, desiredAccess, fileOffsetHigh, fileOffsetLow, numberOfBytesToMap);
+    }
+
+    // --- [ UnmapViewOfFile ] ---
+
+    /** Unsafe version of: {@link #UnmapViewOfFile} */
+    public static native int nUnmapViewOfFile(long baseAddress);
+
+    /**
+     * Unmaps a mapped view of a file from the calling process's address space.
+     *
+     * @param baseAddress a pointer to the base address of the mapped view of a file that is to be unmapped
+     */
+    @NativeType("BOOL")
+    public static boolean UnmapViewOfFile(@NativeType("LPCVOID") long baseAddress) {
+        if (CHECKS) {
+            check(baseAddress);
+        }
+        return nUnmapViewOfFile(baseAddress) != 0;
+    }
+
+    // --- [ CloseHandle ] ---
+
+    /** Unsafe version of: {@link #CloseHandle} */
+    public static native int nCloseHandle(long object);
+
+    /**
+     * Closes an open object handle.
+     * 
+     * <p>Mapped views of a file mapping object maintain internal references to the object, and a file mapping object does not close until all references to it
+     * are released. Closing the file and file mapping handles does not unmap views created with {@link #MapViewOfFile}.</p>
+     *
+     * @param object a valid handle to an open object
+     */
+    @NativeType("BOOL")
+    public static boolean CloseHandle(@NativeType("HANDLE") long object) {
+        if (CHECKS) {
+            check(object);
+        }
+        return nCloseHandle(object) != 0;
+    }
+
 }
\ No newline at end of file
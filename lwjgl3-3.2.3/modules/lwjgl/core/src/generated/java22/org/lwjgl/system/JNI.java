@@ -0,0 +1,12302 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ * MACHINE GENERATED FILE, DO NOT EDIT
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.lang.invoke.*;
+
+import static java.lang.foreign.ValueLayout.*;
+import static org.lwjgl.system.FFM.*;
+
+/**
+ * This class contains native methods that can be used to call dynamically loaded functions. It is used internally by the LWJGL bindings, but can also
+ * be used to call other dynamically loaded functions. Not all possible signatures are available, only those needed by the LWJGL bindings. To call a
+ * function that does not have a matching JNI method, {@link org.lwjgl.system.dyncall.DynCall DynCall} can used.
+ * 
+ * <p>All JNI methods in this class take an extra parameter, called {@code __functionAddress}. This must be a valid pointer to a native function with a
+ * matching signature. Due to overloading, method names are partially mangled:</p>
+ * 
+ * <ul>
+ * <li>{@code call} or {@code invoke}
+ * 
+ * <p>Methods with the {@code invoke} prefix will invoke the native function with the default calling convention. Methods with the {@code call}
+ * prefix will invoke the native function with the {@code __stdcall} calling convention on Windows and the default calling convention on other
+ * systems.</p></li>
+ * <li>a {@code J} or a {@code P} for each {@code long} parameter
+ * 
+ * <p>{@code J} parameters represent 64-bit integer values. {@code P} parameters represent pointer addresses. A pointer address is a 32-bit value on
+ * 32-bit architectures and a 64-bit value on 64-bit architectures.</p></li>
+ * <li>the return value <a href="http://docs.oracle.com/javase/8/docs/technotes/guides/jni/spec/types.html#type_signatures">JNI type signature</a></li>
+ * </ul>
+ * 
+ * <p>This is the Java 22 version of the class. If {@link Configuration#JNI_FFM} is enabled, the Pointer API methods call native functions via
+ * downcall handles of the Foreign Function &amp; Memory API.</p>
+ */
+public final class JNI {
+
+    static {
+        Library.initialize();
+        registerNatives(JNI.class);
+    }
+
+    private JNI() {}
+
+    // Pointer API
+
+    public static byte invokePB(byte param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (byte)invokePB__BJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePB(param0, param1, __functionAddress);
+    }
+
+    public static double invokeD(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (double)invokeD__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeD(__functionAddress);
+    }
+
+    public static double invokeD(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (double)invokeD__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeD(param0, __functionAddress);
+    }
+
+    public static double invokePD(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (double)invokePD__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePD(param0, __functionAddress);
+    }
+
+    public static double invokePD(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (double)invokePD__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePD(param0, param1, __functionAddress);
+    }
+
+    public static double invokePPD(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (double)invokePPD__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPD(param0, param1, __functionAddress);
+    }
+
+    public static float invokeF(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokeF__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeF(param0, __functionAddress);
+    }
+
+    public static float invokePF(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokePF__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePF(param0, __functionAddress);
+    }
+
+    public static float invokePF(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokePF__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePF(param0, param1, __functionAddress);
+    }
+
+    public static float invokePF(long param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokePF__JFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePF(param0, param1, param2, __functionAddress);
+    }
+
+    public static float invokePPF(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokePPF__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPF(param0, param1, __functionAddress);
+    }
+
+    public static float invokePPF(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokePPF__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPF(param0, param1, param2, __functionAddress);
+    }
+
+    public static float invokePPF(long param0, float param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)invokePPF__JFJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPF(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokeI(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokeI__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeI(__functionAddress);
+    }
+
+    public static int invokeI(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokeI__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeI(param0, __functionAddress);
+    }
+
+    public static int invokeI(boolean param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokeI__ZJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeI(param0, __functionAddress);
+    }
+
+    public static int invokeI(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokeI__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeI(param0, param1, __functionAddress);
+    }
+
+    public static int invokeI(int param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokeI__ISJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeI(param0, param1, __functionAddress);
+    }
+
+    public static int invokeI(int param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokeI__IIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePI(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, __functionAddress);
+    }
+
+    public static int invokePI(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePI(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePI(long param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__JSJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePI(short param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__SJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePI(long param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__JIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePI(short param0, long param1, byte param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__SJBJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePI(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePI__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokePJI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePJI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePNI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePNI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePNI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, __functionAddress);
+    }
+
+    public static int invokePPI(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPI(int param0, long param1, int param2, long param3, int param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__IJIJIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPI(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPI__JIIIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int invokePPJI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPJI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, long param1, int param2, long param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JJIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPPI(long param0, int param1, int param2, int param3, long param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPI__JIIIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int invokePNNPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePNNPI__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePNNPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JJJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPPPI(long param0, int param1, int param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPI__JIIJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int invokePPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPI__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int invokePJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePJJJPI__JJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPI__JIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPPPPI(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPI__JJJIJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int invokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPPI__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int invokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPPI__JJJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int invokePNNPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePNNPPPI__JJJIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePNNPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int invokePPPPPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPPPI__JJJIIJJIJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static int invokePPPPPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)invokePPPPPPPPI__JIIJJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long invokeJ(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeJ__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJ(__functionAddress);
+    }
+
+    public static long invokePJ(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJ__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJ(param0, __functionAddress);
+    }
+
+    public static long invokePJ(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJ__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJ(param0, param1, __functionAddress);
+    }
+
+    public static long invokePJ(long param0, float param1, int param2, float param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJ__JFIFIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPJ(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJ__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJ(param0, param1, __functionAddress);
+    }
+
+    public static long invokePPJ(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJ__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJ(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePN(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePN__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePN(param0, __functionAddress);
+    }
+
+    public static long invokePN(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePN__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePN(param0, param1, __functionAddress);
+    }
+
+    public static long invokePNPN(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePNPN__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePNPN(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePNPNPN(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long param10, long param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePNPNPN__JJIIIIIIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePNPNPN(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static long invokeP(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeP__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeP(__functionAddress);
+    }
+
+    public static long invokeP(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeP__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeP(param0, __functionAddress);
+    }
+
+    public static long invokeP(short param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeP__SJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeP(param0, __functionAddress);
+    }
+
+    public static long invokeP(boolean param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeP__ZJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeP(param0, __functionAddress);
+    }
+
+    public static long invokeP(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeP__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePP(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, __functionAddress);
+    }
+
+    public static long invokePP(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePP(long param0, byte param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JBJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePP(long param0, double param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JDJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePP(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePP(short param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__SJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePP(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePP(int param0, short param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__ISJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePP(long param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePP(long param0, short param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JSZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePP(int param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__IIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePP(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokeJP(short param0, short param1, short param2, byte param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeJP__SSSBIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePP(long param0, int param1, byte param2, int param3, boolean param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JIBIZZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePP(long param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePP__JIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePJP(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJP__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, __functionAddress);
+    }
+
+    public static long invokePJP(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJP__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePJP(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJP__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPP(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, long param1, byte param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JJBJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, long param1, int param2, byte param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JJIBJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, long param1, boolean param2, boolean param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JJZZJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, boolean param1, boolean param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JZZJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPP(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__IIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPP(long param0, short param1, short param2, short param3, short param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__JSSSSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPP(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPP__IIIIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePJJP(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJJP__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJJP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPJP(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJP__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long invokePPPP(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__IJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPPP(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__IIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, long param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokeJPPP(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokeJPPP__IIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPJP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJP__JJIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JIJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPP(int param0, int param1, int param2, long param3, long param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__IIIJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPP__JJIIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPJPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJPP__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long invokePPPJP(int param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPJP__IJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPJP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePJPPP(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJPPP__JIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePJPPP(long param0, long param1, int param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJPPP__JJIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPJP(long param0, long param1, long param2, long param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPJP__JJJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPJP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJJIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPP(long param0, long param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__JJJJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPP(int param0, int param1, int param2, long param3, long param4, long param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPP__IIIJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static long invokePJPJPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePJPJPP__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJPJPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePNNNPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePNNNPP__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePNNNPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPP__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long invokePPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPP__JJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPP__JJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPP__JJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPJPPP(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJPPP__JJJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, int param6, int param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPP__JJJJJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static long invokePPJJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPJJPPP__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPJJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, int param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJJIJIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long invokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, int param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPP__JJJJJIJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long invokePPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPP__JJJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static long invokePPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPP__JJJJJIJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long invokePPPPJJPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, long param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPJJPPP__JJJJIJIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPJJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static long invokePPPPPJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJJPP__JJJJJIJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJJPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static long invokePPPPPJPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJPPP__JJJJJIJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static long invokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, long param10, long param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJPPP__JIJJJJIIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static long invokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, int param10, long param11, long param12, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJPPP__JIJJJJIIJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+
+    public static long invokePPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPPP__JJJJJJJIJIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+
+    public static long invokePPPPPPPPP(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, int param8, long param9, long param10, int param11, int param12, int param13, int param14, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPPP__JIJJJIJJIJJIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+
+    public static long invokePPPPPJJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJJJPP__JJJJJIJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJJJPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static long invokePPPPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPPPP__JJJJIJJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static long invokePPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPPPP__JJJJJJJIJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static long invokePPPPPJPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, int param10, int param11, long param12, long param13, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJPPPP__JJJJJIJIIJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+
+    public static long invokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPPPPP__JJJJJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long invokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPPPPPPP__JJJJJJJIJIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+
+    public static long invokePPPPPJPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, long param10, int param11, int param12, long param13, long param14, long param15, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJPPPPPP__JJJJJIJIIJJIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, __functionAddress);
+    }
+
+    public static long invokePPPPPJJPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long param13, long param14, long param15, long param16, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)invokePPPPPJJPPPPPPP__JJJJJIJIJIJJIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPJJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+    }
+
+    public static short invokeS(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(__functionAddress);
+    }
+
+    public static short invokeS(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(param0, __functionAddress);
+    }
+
+    public static short invokeS(int param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__ISJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, __functionAddress);
+    }
+
+    public static short invokeS(short param0, byte param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__SBJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, __functionAddress);
+    }
+
+    public static short invokeS(short param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__SZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, __functionAddress);
+    }
+
+    public static short invokeS(short param0, short param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__SSZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokeS(short param0, short param1, short param2, short param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeS__SSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeS(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static short invokePS(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, __functionAddress);
+    }
+
+    public static short invokePS(long param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__JSJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, __functionAddress);
+    }
+
+    public static short invokeJS(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeJS__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokePS(byte param0, long param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__BJZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokePS(int param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__IJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokePS(long param0, int param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__JISJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokePS(short param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__SJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokeJS(short param0, short param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeJS__SSIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJS(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static short invokeJS(int param0, boolean param1, short param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeJS__IZSIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short invokePS(long param0, short param1, short param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__JSSIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short invokePS(long param0, short param1, short param2, short param3, short param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePS__JSSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short invokePPS(long param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePPS__JJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short invokeJPS(short param0, boolean param1, short param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeJPS__SZSIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static short invokeJPS(short param0, short param1, short param2, boolean param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeJPS__SSSZIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static short invokeJPS(short param0, short param1, boolean param2, short param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokeJPS__SSZSIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static short invokePJPS(long param0, long param1, byte param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePJPS__JJBJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJPS(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static short invokePPPS(long param0, long param1, long param2, short param3, float param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)invokePPPS__JJJSFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(__functionAddress);
+    }
+
+    public static void invokeV(double param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__DJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+
+    public static void invokeV(float param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__FJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+
+    public static void invokeV(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+
+    public static void invokeV(short param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, __functionAddress);
+    }
+
+    public static void invokeV(byte param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__BIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(byte param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__BZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(int param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(int param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__ISJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(short param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(short param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeV(byte param0, short param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__BSIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, double param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIDJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokeV(short param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokeV(byte param0, short param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__BSIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeV(byte param0, short param1, short param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__BSSIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeV(int param0, float param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, int param2, boolean param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSIZJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, short param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSSIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeV(byte param0, short param1, byte param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__BSBIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, double param2, double param3, double param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, float param2, float param3, float param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(int param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__IIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, int param2, float param3, byte param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSIFBJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, short param2, int param3, boolean param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSSIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, short param2, short param3, short param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, short param2, short param3, short param4, int param5, boolean param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSSSSIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, float param2, byte param3, byte param4, byte param5, byte param6, byte param7, byte param8, byte param9, byte param10, byte param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSFBBBBBBBBBJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static void invokeV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, byte param7, short param8, short param9, short param10, short param11, short param12, short param13, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeV__SSBSSSSBSSSSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+
+    public static void invokePV(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, __functionAddress);
+    }
+
+    public static void invokeJV(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeJV__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeJV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(byte param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__BJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(long param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(long param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePV(short param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, __functionAddress);
+    }
+
+    public static void invokeJV(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeJV__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(long param0, double param1, double param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JDDJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(long param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, double param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JIDJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JISJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(short param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(short param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(short param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(short param0, short param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SSJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePV(byte param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__BJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePV(long param0, byte param1, short param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JBSIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePV(short param0, short param1, byte param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SSBJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePV(int param0, int param1, long param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__IIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePV(long param0, byte param1, short param2, short param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JBSSIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, int param3, boolean param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePV(long param0, byte param1, short param2, byte param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JBSBIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, byte param1, short param2, int param3, int param4, short param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JBSIISJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JIIIIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, int param2, short param3, short param4, byte param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSISSBJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, short param3, int param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSSIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, short param3, short param4, short param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(short param0, short param1, short param2, short param3, long param4, short param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SSSSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, short param3, short param4, short param5, int param6, boolean param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSSSSIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, short param3, boolean param4, boolean param5, short param6, int param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSSZZSIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void invokePV(short param0, byte param1, short param2, short param3, short param4, short param5, short param6, short param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SBSSSSSSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void invokePV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, long param7, short param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SSBSSSSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void invokePV(short param0, short param1, byte param2, byte param3, short param4, short param5, short param6, short param7, long param8, short param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__SSBBSSSSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void invokePV(long param0, short param1, short param2, byte param3, short param4, short param5, short param6, short param7, byte param8, short param9, short param10, short param11, short param12, short param13, short param14, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePV__JSSBSSSSBSSSSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+
+    public static void invokePJV(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePJV__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePJV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, __functionAddress);
+    }
+
+    public static void invokePJV(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePJV__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePJV(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePJV__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, long param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JJFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, long param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JJZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(short param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__SJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, short param1, long param2, short param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, float param1, long param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JFJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPV(short param0, short param1, byte param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__SSBJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, byte param1, long param2, int param3, int param4, short param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JBJIISJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPV__JJIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void invokePNPV(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePNPV__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePNPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void invokePJJV(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePJJV__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePJJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePJPV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePJPV__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePJPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPPV(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__IJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokeJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokeJJJV__IIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokeJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__IIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, int param2, long param3, short param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJIJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, long param2, boolean param3, boolean param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJJZZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, short param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJSIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, long param2, int param3, boolean param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJJIZZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JZIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePPPV(long param0, long param1, int param2, int param3, int param4, long param5, int param6, boolean param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPV__JJIIIJIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void invokePNPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePNPPV__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePNPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPV__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void invokePPPPV(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPV__JIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPV__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPPV(long param0, long param1, short param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPV__JJSJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPPPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPPV__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void invokePPPPPV(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPPV__JIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPPV__IJIJJJIJIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void invokePPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPPPV__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void invokePPPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                invokePPPPPPPV__JJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ninvokePPPPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static boolean invokeZ(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokeZ__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeZ(__functionAddress);
+    }
+
+    public static boolean invokeZ(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokeZ__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeZ(param0, __functionAddress);
+    }
+
+    public static boolean invokePZ(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePZ__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePZ(param0, __functionAddress);
+    }
+
+    public static boolean invokePZ(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePZ__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean invokePZ(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePZ__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean invokeJZ(short param0, boolean param1, short param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokeJZ__SZSIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokeJZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static boolean invokePPZ(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPZ__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean invokePPPZ(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPZ__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean invokePJPZ(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePJPZ__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePJPZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean invokePPPZ(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPZ__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean invokePPPZ(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPZ__JJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static boolean invokePPPZ(long param0, long param1, long param2, boolean param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPZ__JJJZIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static boolean invokePPPPZ(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPPZ__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean invokePPPPZ(long param0, long param1, long param2, byte param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPPZ__JJJBJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static boolean invokePPPPPZ(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPPPZ__JJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPZ(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static boolean invokePPPPPZ(long param0, long param1, long param2, long param3, long param4, boolean param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)invokePPPPPZ__JJJJJZIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ninvokePPPPPZ(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static float callF(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)callF__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallF(__functionAddress);
+    }
+
+    public static float callF(int param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)callF__IIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallF(param0, param1, param2, __functionAddress);
+    }
+
+    public static float callPF(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)callPF__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPF(param0, param1, param2, __functionAddress);
+    }
+
+    public static float callPPPF(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (float)callPPPF__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPF(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callI(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callI__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallI(__functionAddress);
+    }
+
+    public static int callI(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callI__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallI(param0, __functionAddress);
+    }
+
+    public static int callI(int param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callI__IFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallI(param0, param1, __functionAddress);
+    }
+
+    public static int callI(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callI__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallI(param0, param1, __functionAddress);
+    }
+
+    public static int callI(int param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callI__IIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJI(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, __functionAddress);
+    }
+
+    public static int callPI(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, __functionAddress);
+    }
+
+    public static int callJI(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, __functionAddress);
+    }
+
+    public static int callJI(long param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__JFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, __functionAddress);
+    }
+
+    public static int callJI(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, __functionAddress);
+    }
+
+    public static int callPI(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+
+    public static int callPI(long param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+
+    public static int callPI(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+
+    public static int callPI(long param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, __functionAddress);
+    }
+
+    public static int callJI(long param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__JFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJI(long param0, int param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__JIZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPI(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPI(int param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPI(long param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPI(long param0, int param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JIFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPI(long param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJI(long param0, float param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJI__JFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPI(int param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPI(int param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPI(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPI(int param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPI(long param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPI(int param0, int param1, int param2, float param3, float param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IIIFFJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPI(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPI(int param0, long param1, int param2, int param3, float param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IJIIFIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__JIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPI(int param0, int param1, long param2, int param3, int param4, int param5, int param6, float param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPI__IIJIIIIFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callJJI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJJI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJI(param0, param1, __functionAddress);
+    }
+
+    public static int callJPI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, __functionAddress);
+    }
+
+    public static int callPJI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, __functionAddress);
+    }
+
+    public static int callPPI(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, __functionAddress);
+    }
+
+    public static int callJJI(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJJI__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJPI(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJPI(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPJI(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJI__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPJI(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJI__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPI(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPI(long param0, byte param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JBJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPI(long param0, long param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JJFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPI(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPI(long param0, short param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JSJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJPI(long param0, int param1, long param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JIJFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPI(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPI(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPJI(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJI__JIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPI(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPI(int param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPI(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPI__JJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPI(int param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPI(int param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJJI(long param0, float param1, float param2, float param3, float param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJJI__JFFFFJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPI(int param0, int param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IIIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPI(long param0, long param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JJIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPI(int param0, int param1, long param2, long param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__IIJJIIIIFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static int callPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPI__JIIIIIIJIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+    }
+
+    public static int callJJPI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJJPI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPJPI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPJI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, __functionAddress);
+    }
+
+    public static int callJJPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJJPI__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPJI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPJI__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPJPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPI__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPJPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPI__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPJI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJI__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPJI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJI__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPJI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJI__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPNI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPNI__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPNI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPI(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__IJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, byte param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JBJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, short param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JSJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPJI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPJI__JIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPJI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPJI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJI__JIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPI(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__IIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJPJI(long param0, int param1, float param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPJI__JIFJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPJI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callJPPI(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPI__JIJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JJIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPJI(int param0, int param1, long param2, int param3, long param4, boolean param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJI__IIJIJZJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, long param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JJIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPI__JIIIIIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static int callJPPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPPI__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPJJJI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJJJI__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJJJI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPJPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPI__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPNPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPNPI__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPNPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static int callJPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPPI__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPJPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPI__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, byte param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJBJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, short param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJSJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callJPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPPI__JIJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPJPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPI__JJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JIJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callJPPJI(long param0, int param1, int param2, long param3, int param4, long param5, boolean param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPJI__JIIJIJZJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPJI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__JIIIIIIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static int callPPPPI(int param0, long param1, long param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, int param18, int param19, int param20, long param21, long param22, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPI__IJJIIIIIIIIIIIIIIIIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, param17, param18, param19, param20, param21, param22, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, param17, param18, param19, param20, param21, param22, __functionAddress);
+    }
+
+    public static int callPJPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPPI__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static int callPJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJJJPI__JJJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPJPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPPI__JJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, byte param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJBJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, short param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJSJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callJJPPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJJPPPI__JJIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPJPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJPPI__JIJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPJPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPJPPI__JJIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__IIJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JJJJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static int callJPPPPI(int param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPPPI__IIJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPJPPJI(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPJI__JJIIJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPJI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPI(long param0, int param1, long param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPI__JIJIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPJJJJPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJJJJPI__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJJJJPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPI__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static int callPJPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPJPPPPI__JIJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPJPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPJPPI__JIJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPJPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPI__IIJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPI__JIJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPI__JJIJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPI__JJJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPI__JJJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static int callPPPPPPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPI__JIJJIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPI__JJIJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static int callPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPPI__JJJJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static int callPPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, int param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPPI__JJJJIJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static int callJPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callJPPPPPPPPI__JJJJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPPPI__JJIJJJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, int param10, long param11, long param12, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPPPPPPI__JJJJJJJJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+
+    public static int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, int param11, long param12, long param13, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (int)callPPPPPPPPPPPPI__JJIJJJJJJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPPPPI(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, __functionAddress);
+    }
+
+    public static long callJ(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callJ__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJ(__functionAddress);
+    }
+
+    public static long callJ(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callJ__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJ(param0, __functionAddress);
+    }
+
+    public static long callJ(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callJ__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJ(param0, param1, __functionAddress);
+    }
+
+    public static long callJ(int param0, int param1, boolean param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callJ__IIZIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callJJ(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callJJ__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJJ(param0, __functionAddress);
+    }
+
+    public static long callPJ(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJ__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJ(param0, __functionAddress);
+    }
+
+    public static long callPJ(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJ__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJ(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPPJ(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPJ__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJ(param0, param1, __functionAddress);
+    }
+
+    public static long callPPJ(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPJ__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJ(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPN(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPN__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPN(param0, __functionAddress);
+    }
+
+    public static long callP(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callP__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallP(__functionAddress);
+    }
+
+    public static long callP(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callP__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallP(param0, __functionAddress);
+    }
+
+    public static long callP(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callP__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallP(param0, param1, __functionAddress);
+    }
+
+    public static long callP(int param0, float param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callP__IFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPP(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPP__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPP(param0, __functionAddress);
+    }
+
+    public static long callPP(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPP__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, __functionAddress);
+    }
+
+    public static long callPP(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPP__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, __functionAddress);
+    }
+
+    public static long callPP(int param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPP__IJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPP(long param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPP__JIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPNP(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPNP__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPNP(param0, param1, __functionAddress);
+    }
+
+    public static long callPPP(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, __functionAddress);
+    }
+
+    public static long callPPP(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPPP(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPPP(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPPP(int param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__IJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPP(int param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__IIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPP(long param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__JIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPP(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPP__JJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPNP(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPNP__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPNP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPPPP(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPP__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, __functionAddress);
+    }
+
+    public static long callPJPP(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPP__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPJPP(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPP__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPPP(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPP__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPPP(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPP__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPPP(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPP__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPP__JJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPP__JJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPJPP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPP__JJIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long callPPJPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPJPP__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPNPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPNPP__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPNPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPPPPP(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPP__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static long callPJPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPP__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPJPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPP__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPP__JIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPP__JJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPP__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPP__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPJPPP(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPP__JJIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long callPJPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPPP__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPP(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static long callPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPPP__JIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long callPJPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPPPP__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long callPPPJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPJPPP__JJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPJPPP(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static long callPPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPPPP__JIJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPP(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static long callPPPPPPP(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPPPP__JIJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static long callPPPPPPPP(int param0, long param1, long param2, int param3, int param4, int param5, int param6, long param7, long param8, long param9, int param10, long param11, long param12, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPPPPPPP__IJJIIIIJJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+
+    public static long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPPPPPP__JJJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static long callPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPJPPPPPP__JJIJJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPJPPPPPPPPP__JJJJJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJPPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static long callPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (long)callPPJPPPPPPPP__JJIJJJJJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJPPPPPPPP(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static short callS(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callS__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallS(param0, __functionAddress);
+    }
+
+    public static short callPS(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPS__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPS(param0, __functionAddress);
+    }
+
+    public static short callPS(long param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPS__JSJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPS(param0, param1, __functionAddress);
+    }
+
+    public static short callPS(short param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPS__SJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPS(param0, param1, __functionAddress);
+    }
+
+    public static short callPS(short param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPS__SJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short callPPS(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, __functionAddress);
+    }
+
+    public static short callPPS(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short callPPS(long param0, long param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__JJSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short callPPS(long param0, short param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__JSJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short callPPS(short param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__SJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short callPJS(long param0, long param1, short param2, short param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPJS__JJSSJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPJS(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static short callPPS(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static short callPPS(long param0, short param1, short param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPS__JSSJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short callPPPS(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPS__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, __functionAddress);
+    }
+
+    public static short callPPPS(long param0, long param1, short param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPS__JJSJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static short callPPPS(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPS__JIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short callPPPS(long param0, short param1, long param2, short param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPS__JSJSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short callPPPS(long param0, short param1, short param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPS__JSSJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static short callPPPS(short param0, long param1, short param2, short param3, long param4, short param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPS__SJSSJSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, short param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JSJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JJSJSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, short param1, short param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JSSJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JJSJSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, short param1, short param2, long param3, short param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JSSJSJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, short param7, short param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JJSJSJSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static short callPPPPS(long param0, short param1, long param2, short param3, long param4, short param5, long param6, short param7, short param8, short param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPS__JSJSJSJSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static short callPPPPPS(long param0, short param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__JSJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static short callPPPPPS(long param0, long param1, long param2, short param3, long param4, short param5, long param6, short param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__JJJSJSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static short callPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, short param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__JSJSJJSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static short callPPPPPS(short param0, long param1, short param2, long param3, long param4, long param5, short param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__SJSJJJSJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static short callPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__JJSJSJSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static short callPPPPPS(long param0, short param1, short param2, short param3, long param4, short param5, short param6, long param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__JSSSJSSJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static short callPPPPPS(long param0, short param1, short param2, short param3, short param4, long param5, short param6, long param7, long param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPS__JSSSSJSJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static short callPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPPPS__JSJSJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static short callPPPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long param9, short param10, long param11, short param12, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPPPS__JJSJSJSJSJSJSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, __functionAddress);
+    }
+
+    public static short callPPPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (short)callPPPPPPPPPS__JSJSJJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPPPPPS(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callV(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(__functionAddress);
+    }
+
+    public static void callV(byte param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__BJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, __functionAddress);
+    }
+
+    public static void callV(double param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__DJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, __functionAddress);
+    }
+
+    public static void callV(float param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, __functionAddress);
+    }
+
+    public static void callV(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, __functionAddress);
+    }
+
+    public static void callV(short param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__SJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, __functionAddress);
+    }
+
+    public static void callV(boolean param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__ZJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, __functionAddress);
+    }
+
+    public static void callV(double param0, double param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__DDJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(float param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(float param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(int param0, double param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IDJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(int param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(int param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__ISJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(int param0, boolean param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IZJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(short param0, short param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__SSJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, __functionAddress);
+    }
+
+    public static void callV(byte param0, byte param1, byte param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__BBBJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(double param0, double param1, double param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__DDDJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(float param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, double param1, double param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IDDJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, double param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIDJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IISJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, boolean param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIZJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(int param0, short param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__ISSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(short param0, short param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__SSSJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callV(byte param0, byte param1, byte param2, byte param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__BBBBJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(double param0, double param1, double param2, double param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__DDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(float param0, float param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, double param1, double param2, double param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, float param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, double param2, double param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIDDJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, float param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIFIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, double param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIDJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, boolean param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIZJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, boolean param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIZIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, short param1, short param2, short param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__ISSSJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(short param0, short param1, short param2, short param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__SSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(boolean param0, boolean param1, boolean param2, boolean param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__ZZZZJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callV(int param0, byte param1, byte param2, byte param3, byte param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IBBBBJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, double param1, double param2, double param3, double param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IDDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, float param1, float param2, float param3, float param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, double param2, double param3, double param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, float param2, float param3, float param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, float param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIFIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, boolean param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIZIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, short param1, short param2, short param3, short param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__ISSSSJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(int param0, boolean param1, boolean param2, boolean param3, boolean param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IZZZZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callV(double param0, double param1, double param2, double param3, double param4, double param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__DDDDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(float param0, float param1, float param2, float param3, float param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FFFFFZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, double param1, double param2, int param3, double param4, double param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IDDIDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, float param1, float param2, int param3, float param4, float param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IFFIFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, double param2, double param3, double param4, double param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIDDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, float param2, float param3, float param4, float param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, boolean param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIZIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callV(int param0, double param1, double param2, double param3, double param4, double param5, double param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IDDDDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, double param3, double param4, double param5, double param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIDDDDJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, boolean param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIZIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callV(float param0, float param1, float param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__FFFFFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIFFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, boolean param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, boolean param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIFFFFFFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+
+    public static void callV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callV__IIIIIIIIIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, __functionAddress);
+    }
+
+    public static void callJV(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, __functionAddress);
+    }
+
+    public static void callPV(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, __functionAddress);
+    }
+
+    public static void callJV(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, __functionAddress);
+    }
+
+    public static void callJV(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, __functionAddress);
+    }
+
+    public static void callPV(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+
+    public static void callPV(long param0, float param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JFJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, __functionAddress);
+    }
+
+    public static void callJV(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPV(int param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPV(long param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, short param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JISJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callJV(int param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callNV(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callNV__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallNV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(int param0, float param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IFJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, boolean param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIZJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(int param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(long param0, float param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, long param3, boolean param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIJZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIZJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(int param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(int param0, boolean param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IZIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, double param1, double param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IDDIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, float param1, float param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IFFIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, long param4, boolean param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIJZJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, long param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, boolean param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIZIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(int param0, boolean param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IZIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, float param2, float param3, float param4, float param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIFFFFJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, long param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIJIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IIIIIZIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIZIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callJV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, int param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__IIIIIIZIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIJIIIIIFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IDDIIDDIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void callPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IFFIIFFIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void callJV(long param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJV__JIFFFFFFFFFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__JIIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long param11, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPV__IIIIIIIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, __functionAddress);
+    }
+
+    public static void callJPV(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJPV__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJPV(param0, param1, __functionAddress);
+    }
+
+    public static void callPJV(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, __functionAddress);
+    }
+
+    public static void callPPV(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, __functionAddress);
+    }
+
+    public static void callJJV(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJJV__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPJV(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPJV(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPPV(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPPV(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callJJV(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJJV__IIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callJPV(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJPV__IIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callJPV(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJPV__IJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJV(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__IJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJV(long param0, int param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__JIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJV(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__JJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, long param2, boolean param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJJZJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(long param0, int param1, float param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JIFJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(long param0, int param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPV(long param0, long param1, int param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJV(long param0, long param1, int param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJV__JJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, int param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, long param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(long param0, int param1, int param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__JIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPV(int param0, long param1, long param2, int param3, int param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IJJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, int param3, int param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIIJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIIJIFFIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJIIIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, int param8, float param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPV__IIJIIIJIIFJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void callPJJV(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJV__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPJPV(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPV__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPPNV(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPNV__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPNV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, __functionAddress);
+    }
+
+    public static void callJJJV(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJJJV__IJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJJJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJJV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJV__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJPV(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPV__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, int param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, long param1, float param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JJFJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, long param1, long param2, int param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, long param1, boolean param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JJZJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJJJV__IIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPJJV(long param0, int param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJV__JIJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPJJV(long param0, long param1, long param2, int param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJV__JJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, long param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, int param1, int param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPJPV(long param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPV__JIJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPJPV(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPV__JJIIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPJV(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPJV__JIJIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPJJV(long param0, int param1, int param2, long param3, long param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJV__JIIJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, int param1, int param2, int param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IIIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IIJJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPPV(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__IIIIJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JIIIIIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPV__JJIIIIIIJIIIIIIIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, param17, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, param15, param16, param17, __functionAddress);
+    }
+
+    public static void callPJJPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJPV__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPJPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPPV__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPNV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPNV__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPNV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callPPPPV(long param0, long param1, long param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__JJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static void callJJJJV(int param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJJJJV__IJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPJJJV(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJJV__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJJV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPJJPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJPV__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPPV(int param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__IJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__JJJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__JJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callJJJJV(int param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callJJJJV__IIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallJJJJV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPJJPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJPV__JJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPJJPV(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJPV__JJJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPJPPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPPV__JJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__IJIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPPPV(int param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__IJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPPPPV(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__JIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, __functionAddress);
+    }
+
+    public static void callPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJPV__JJIJIIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__IIIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__IIJJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, int param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJPV__JJIJIIJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPJPPV(long param0, int param1, long param2, int param3, int param4, long param5, int param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPPV__JIJIIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPPPV(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long param7, int param8, long param9, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPV__JIIIIJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, __functionAddress);
+    }
+
+    public static void callPJJJPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJJPV__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJJPV(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static void callPJJJJV(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJJJV__JJJJJIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJJJV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPPV__IIJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPPV(param0, param1, param2, param3, param4, param5, param6, __functionAddress);
+    }
+
+    public static void callPJJJJV(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJJJV__JJIIJJJIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJJJV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPJPPPV(long param0, int param1, int param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJPPPV__JIIJJIJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPPPPV(long param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPPV__JIJIIIJIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callPPPPPPV(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPPPV__JJJIIJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static void callPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPPPPPPV__IIIJIJJJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPPPPPPV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, __functionAddress);
+    }
+
+    public static void callPPJJJJJJV(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPPJJJJJJV__JJJJIJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPPJJJJJJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, __functionAddress);
+    }
+
+    public static void callPJJJJJJJJJJJV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long param11, int param12, int param13, int param14, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                callPJJJJJJJJJJJV__JJJJJJJJJJJJIIIJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            return;
+        }
+        ncallPJJJJJJJJJJJV(param0, param1, param2, param3, param4, param5, param6, param7, param8, param9, param10, param11, param12, param13, param14, __functionAddress);
+    }
+
+    public static boolean callZ(long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callZ__J.HANDLE.invokeExact(__functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallZ(__functionAddress);
+    }
+
+    public static boolean callZ(int param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callZ__IJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallZ(param0, __functionAddress);
+    }
+
+    public static boolean callZ(boolean param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callZ__ZJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallZ(param0, __functionAddress);
+    }
+
+    public static boolean callZ(int param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callZ__IIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean callZ(int param0, float param1, float param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callZ__IFFJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callZ(int param0, int param1, float param2, float param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callZ__IIFFJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean callJZ(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callJZ__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJZ(param0, __functionAddress);
+    }
+
+    public static boolean callPZ(long param0, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__JJ.HANDLE.invokeExact(param0, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, __functionAddress);
+    }
+
+    public static boolean callJZ(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callJZ__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean callPZ(int param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__IJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean callPZ(long param0, int param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__JIJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean callPZ(boolean param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__ZJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean callJZ(int param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callJZ__IJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPZ(int param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__IIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPZ(int param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__IJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPZ(int param0, float param1, float param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPZ__IFFJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean callPPZ(long param0, long param1, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPZ__JJJ.HANDLE.invokeExact(param0, param1, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, __functionAddress);
+    }
+
+    public static boolean callJPZ(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callJPZ__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPPZ(int param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPZ__IJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPPZ(long param0, int param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPZ__JIJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPPZ(long param0, long param1, int param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPZ__JJIJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPPZ(int param0, long param1, int param2, long param3, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPZ__IJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, param3, __functionAddress);
+    }
+
+    public static boolean callPPZ(int param0, int param1, long param2, int param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPZ__IIJIJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static boolean callJPPZ(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callJPPZ__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallJPPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPPPZ(long param0, long param1, long param2, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPPZ__JJJJ.HANDLE.invokeExact(param0, param1, param2, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPZ(param0, param1, param2, __functionAddress);
+    }
+
+    public static boolean callPPPPZ(int param0, int param1, int param2, float param3, long param4, long param5, long param6, long param7, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPPPZ__IIIFJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPZ(param0, param1, param2, param3, param4, param5, param6, param7, __functionAddress);
+    }
+
+    public static boolean callPPJPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPJPPZ__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPJPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    public static boolean callPPPPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress) {
+        if (ENABLED) {
+            try {
+                return (boolean)callPPPPPZ__JJJJJJ.HANDLE.invokeExact(param0, param1, param2, param3, param4, __functionAddress);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        return ncallPPPPPZ(param0, param1, param2, param3, param4, __functionAddress);
+    }
+
+    // Array API
+
+    public static native byte invokePB(byte param0, @Nullable int[] param1, long __functionAddress);
+    public static native int invokePI(short param0, @Nullable int[] param1, long __functionAddress);
+    public static native int invokePI(@Nullable float[] param0, short param1, long __functionAddress);
+    public static native int invokePI(short param0, @Nullable float[] param1, byte param2, long __functionAddress);
+    public static native int invokePI(short param0, @Nullable int[] param1, byte param2, long __functionAddress);
+    public static native int invokePI(short param0, @Nullable short[] param1, byte param2, long __functionAddress);
+    public static native int invokePPI(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native int invokePPI(long param0, @Nullable float[] param1, short param2, long __functionAddress);
+    public static native int invokePPI(int param0, @Nullable int[] param1, int param2, @Nullable int[] param3, int param4, boolean param5, long __functionAddress);
+    public static native int invokePPI(int param0, @Nullable short[] param1, int param2, @Nullable short[] param3, int param4, boolean param5, long __functionAddress);
+    public static native int invokePPPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+    public static native int invokePPPPI(long param0, long param1, int param2, int param3, @Nullable float[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native int invokePPPPI(long param0, long param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native int invokePNNPPPI(long param0, long param1, long param2, int param3, int param4, @Nullable int[] param5, @Nullable int[] param6, long param7, long __functionAddress);
+    public static native int invokePPPPPPPPI(long param0, int param1, int param2, long param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable float[] param6, @Nullable int[] param7, @Nullable int[] param8, @Nullable int[] param9, long __functionAddress);
+    public static native long invokePP(@Nullable double[] param0, int param1, long __functionAddress);
+    public static native long invokePP(@Nullable float[] param0, int param1, long __functionAddress);
+    public static native long invokePP(@Nullable int[] param0, int param1, long __functionAddress);
+    public static native long invokePP(@Nullable long[] param0, int param1, long __functionAddress);
+    public static native long invokePP(@Nullable short[] param0, int param1, long __functionAddress);
+    public static native long invokePPP(long param0, @Nullable int[] param1, long __functionAddress);
+    public static native short invokePS(byte param0, @Nullable short[] param1, boolean param2, long __functionAddress);
+    public static native short invokePS(short param0, @Nullable short[] param1, short param2, long __functionAddress);
+    public static native short invokePPPS(@Nullable short[] param0, long param1, long param2, short param3, float param4, long __functionAddress);
+    public static native void invokePV(byte param0, @Nullable float[] param1, long __functionAddress);
+    public static native void invokePV(int param0, @Nullable double[] param1, long __functionAddress);
+    public static native void invokePV(int param0, @Nullable float[] param1, long __functionAddress);
+    public static native void invokePV(int param0, @Nullable int[] param1, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable double[] param2, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable float[] param2, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable int[] param2, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable long[] param2, long __functionAddress);
+    public static native void invokePV(short param0, short param1, @Nullable short[] param2, long __functionAddress);
+    public static native void invokePV(short param0, @Nullable double[] param1, short param2, long __functionAddress);
+    public static native void invokePV(short param0, @Nullable float[] param1, short param2, long __functionAddress);
+    public static native void invokePV(short param0, @Nullable int[] param1, short param2, long __functionAddress);
+    public static native void invokePV(short param0, @Nullable long[] param1, short param2, long __functionAddress);
+    public static native void invokePV(short param0, @Nullable short[] param1, short param2, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable float[] param2, int param3, int param4, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable int[] param2, int param3, int param4, long __functionAddress);
+    public static native void invokePV(int param0, int param1, @Nullable short[] param2, int param3, int param4, long __functionAddress);
+    public static native void invokePPV(long param0, @Nullable float[] param1, int param2, long __functionAddress);
+    public static native void invokePPV(long param0, @Nullable int[] param1, int param2, long __functionAddress);
+    public static native void invokePPV(long param0, @Nullable short[] param1, int param2, long __functionAddress);
+    public static native void invokePPV(short param0, @Nullable float[] param1, @Nullable float[] param2, long __functionAddress);
+    public static native void invokePPV(long param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native void invokePPV(long param0, int param1, int param2, @Nullable long[] param3, long __functionAddress);
+    public static native void invokePPV(long param0, short param1, @Nullable double[] param2, short param3, long __functionAddress);
+    public static native void invokePPV(long param0, short param1, @Nullable float[] param2, short param3, long __functionAddress);
+    public static native void invokePPV(long param0, short param1, @Nullable int[] param2, short param3, long __functionAddress);
+    public static native void invokePPV(long param0, short param1, @Nullable long[] param2, short param3, long __functionAddress);
+    public static native void invokePPV(long param0, short param1, @Nullable short[] param2, short param3, long __functionAddress);
+    public static native void invokePNPV(long param0, long param1, @Nullable short[] param2, long __functionAddress);
+    public static native void invokePPPV(long param0, @Nullable double[] param1, @Nullable double[] param2, long __functionAddress);
+    public static native void invokePPPV(long param0, @Nullable float[] param1, @Nullable float[] param2, long __functionAddress);
+    public static native void invokePPPV(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+    public static native void invokePPPV(@Nullable int[] param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+    public static native void invokePPPV(int param0, @Nullable float[] param1, @Nullable float[] param2, @Nullable float[] param3, long __functionAddress);
+    public static native void invokePPPV(int param0, int param1, @Nullable double[] param2, @Nullable double[] param3, @Nullable double[] param4, long __functionAddress);
+    public static native void invokePPPV(int param0, int param1, @Nullable float[] param2, @Nullable float[] param3, @Nullable float[] param4, long __functionAddress);
+    public static native void invokePPPV(int param0, int param1, @Nullable long[] param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress);
+    public static native void invokePPPV(@Nullable float[] param0, int param1, long param2, long param3, int param4, long __functionAddress);
+    public static native void invokePPPV(@Nullable float[] param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress);
+    public static native void invokePNPPV(long param0, long param1, long param2, @Nullable short[] param3, long __functionAddress);
+    public static native void invokePPPPPV(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native void invokePPPPPV(long param0, int param1, long param2, @Nullable int[] param3, long param4, long param5, long __functionAddress);
+    public static native void invokePPPPPV(int param0, long param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress);
+    public static native void invokePPPPPV(int param0, @Nullable int[] param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, @Nullable int[] param7, int param8, boolean param9, long __functionAddress);
+    public static native void invokePPPPPV(int param0, @Nullable short[] param1, int param2, @Nullable float[] param3, @Nullable float[] param4, long param5, int param6, @Nullable short[] param7, int param8, boolean param9, long __functionAddress);
+    public static native boolean invokePPZ(long param0, @Nullable int[] param1, long __functionAddress);
+    public static native int callPI(@Nullable int[] param0, long __functionAddress);
+    public static native int callPI(int param0, @Nullable int[] param1, long __functionAddress);
+    public static native int callPI(@Nullable int[] param0, int param1, long __functionAddress);
+    public static native int callPI(int param0, int param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPI(int param0, @Nullable int[] param1, int param2, long __functionAddress);
+    public static native int callPI(int param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPI(int param0, int param1, int param2, int param3, @Nullable float[] param4, long __functionAddress);
+    public static native int callPI(int param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPPI(long param0, @Nullable int[] param1, long __functionAddress);
+    public static native int callPPI(long param0, @Nullable long[] param1, long __functionAddress);
+    public static native int callPPI(@Nullable int[] param0, long param1, long __functionAddress);
+    public static native int callPPI(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPPI(long param0, int param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPPI(long param0, int param1, @Nullable long[] param2, long __functionAddress);
+    public static native int callPPI(long param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPJPI(long param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPPPI(long param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPPPI(long param0, long param1, @Nullable long[] param2, long __functionAddress);
+    public static native int callPPPI(long param0, @Nullable int[] param1, long param2, long __functionAddress);
+    public static native int callPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPPPI(long param0, @Nullable long[] param1, @Nullable long[] param2, long __functionAddress);
+    public static native int callPPPI(@Nullable int[] param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native int callPJPI(long param0, int param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPJPI(long param0, long param1, int param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, long param2, @Nullable double[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, long param2, @Nullable float[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, long param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, long param2, @Nullable short[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, long param1, int param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPPI(long param0, long param1, @Nullable int[] param2, int param3, long __functionAddress);
+    public static native int callPPJI(long param0, int param1, @Nullable long[] param2, int param3, long param4, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, int param2, int param3, @Nullable int[] param4, @Nullable float[] param5, long __functionAddress);
+    public static native int callPPPI(long param0, int param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPNPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPPPI(long param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+    public static native int callPPPPI(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native int callPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, long param2, long param3, @Nullable long[] param4, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, long param2, @Nullable int[] param3, long param4, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, long param2, @Nullable long[] param3, long param4, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, long param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress);
+    public static native int callPPPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPPPPI(long param0, long param1, long param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPPPPI(long param0, @Nullable int[] param1, long param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPPPPI(long param0, @Nullable long[] param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPJPPI(long param0, long param1, int param2, int param3, long param4, @Nullable int[] param5, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, int param2, long param3, @Nullable int[] param4, long param5, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, int param2, long param3, @Nullable long[] param4, long param5, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, int param2, @Nullable long[] param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native int callPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, @Nullable int[] param6, long __functionAddress);
+    public static native int callPPPPI(int param0, @Nullable int[] param1, @Nullable long[] param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, int param18, int param19, int param20, @Nullable int[] param21, @Nullable long[] param22, long __functionAddress);
+    public static native int callPJPPPI(long param0, long param1, long param2, long param3, @Nullable long[] param4, long __functionAddress);
+    public static native int callPPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native int callPPPPPI(long param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable long[] param4, long __functionAddress);
+    public static native int callPPPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, long param4, long __functionAddress);
+    public static native int callPJPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable long[] param5, long __functionAddress);
+    public static native int callPPPPPI(long param0, long param1, int param2, long param3, @Nullable int[] param4, long param5, long __functionAddress);
+    public static native int callPPPPPI(long param0, long param1, int param2, long param3, @Nullable long[] param4, long param5, long __functionAddress);
+    public static native int callPPPPPI(long param0, @Nullable int[] param1, @Nullable float[] param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native int callPPPPPI(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long param6, long __functionAddress);
+    public static native int callPJPPJI(long param0, long param1, int param2, int param3, long param4, @Nullable int[] param5, long param6, int param7, long __functionAddress);
+    public static native int callPJPPJI(long param0, long param1, int param2, int param3, long param4, @Nullable long[] param5, long param6, int param7, long __functionAddress);
+    public static native int callPJJJJPI(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+    public static native int callPPPPPPI(long param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native int callPPPPPPI(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable int[] param6, long param7, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, @Nullable int[] param6, long param7, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, @Nullable float[] param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, @Nullable int[] param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable double[] param5, int param6, long param7, long param8, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable float[] param5, int param6, long param7, long param8, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable int[] param5, int param6, long param7, long param8, long __functionAddress);
+    public static native int callPPPPPPPI(long param0, long param1, int param2, long param3, long param4, @Nullable short[] param5, int param6, long param7, long param8, long __functionAddress);
+    public static native int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable double[] param7, int param8, long param9, long param10, long __functionAddress);
+    public static native int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable float[] param7, int param8, long param9, long param10, long __functionAddress);
+    public static native int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable int[] param7, int param8, long param9, long param10, long __functionAddress);
+    public static native int callPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, @Nullable short[] param7, int param8, long param9, long param10, long __functionAddress);
+    public static native int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable double[] param10, int param11, long param12, long param13, long __functionAddress);
+    public static native int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable float[] param10, int param11, long param12, long param13, long __functionAddress);
+    public static native int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable int[] param10, int param11, long param12, long param13, long __functionAddress);
+    public static native int callPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, @Nullable short[] param10, int param11, long param12, long param13, long __functionAddress);
+    public static native long callPP(@Nullable int[] param0, long __functionAddress);
+    public static native long callPPP(long param0, @Nullable int[] param1, long __functionAddress);
+    public static native long callPPP(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native long callPPP(long param0, int param1, @Nullable int[] param2, long __functionAddress);
+    public static native long callPPP(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPPP(long param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPPPP(long param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native long callPPPP(long param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+    public static native long callPJPP(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native long callPPPP(long param0, int param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native long callPPPP(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native long callPPPP(long param0, long param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPP(long param0, long param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPPJPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native long callPPNPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native long callPPPPP(long param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native long callPPPPP(long param0, long param1, @Nullable long[] param2, @Nullable int[] param3, long __functionAddress);
+    public static native long callPJPPP(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPPP(long param0, long param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPPPPP(long param0, int param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPPPPP(long param0, long param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPPPPP(long param0, long param1, long param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPPP(long param0, long param1, int param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPJPPPP(long param0, long param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPPPP(long param0, long param1, long param2, @Nullable double[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPPPP(long param0, long param1, long param2, @Nullable float[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPPPP(long param0, long param1, long param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPJPPPP(long param0, long param1, long param2, @Nullable short[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native long callPPPPPP(long param0, int param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPJPPPPP(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPJPPPPP(long param0, long param1, long param2, long param3, @Nullable float[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPJPPPPP(long param0, long param1, long param2, long param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPJPPPPP(long param0, long param1, long param2, long param3, @Nullable short[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPPPJPPP(long param0, long param1, long param2, long param3, long param4, @Nullable int[] param5, long __functionAddress);
+    public static native long callPPPPPPP(long param0, int param1, long param2, long param3, long param4, @Nullable int[] param5, @Nullable int[] param6, long __functionAddress);
+    public static native long callPPPPPPPP(int param0, @Nullable int[] param1, @Nullable long[] param2, int param3, int param4, int param5, int param6, long param7, long param8, long param9, int param10, @Nullable int[] param11, @Nullable long[] param12, long __functionAddress);
+    public static native long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, @Nullable int[] param7, long __functionAddress);
+    public static native long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable float[] param6, @Nullable int[] param7, long __functionAddress);
+    public static native long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable int[] param6, @Nullable int[] param7, long __functionAddress);
+    public static native long callPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, @Nullable short[] param6, @Nullable int[] param7, long __functionAddress);
+    public static native long callPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, @Nullable int[] param9, long __functionAddress);
+    public static native long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, @Nullable int[] param9, long __functionAddress);
+    public static native long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable float[] param8, @Nullable int[] param9, long __functionAddress);
+    public static native long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable int[] param8, @Nullable int[] param9, long __functionAddress);
+    public static native long callPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, @Nullable short[] param8, @Nullable int[] param9, long __functionAddress);
+    public static native long callPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, @Nullable int[] param11, long __functionAddress);
+    public static native void callPV(@Nullable double[] param0, long __functionAddress);
+    public static native void callPV(@Nullable float[] param0, long __functionAddress);
+    public static native void callPV(@Nullable int[] param0, long __functionAddress);
+    public static native void callPV(@Nullable short[] param0, long __functionAddress);
+    public static native void callPV(int param0, @Nullable double[] param1, long __functionAddress);
+    public static native void callPV(int param0, @Nullable float[] param1, long __functionAddress);
+    public static native void callPV(int param0, @Nullable int[] param1, long __functionAddress);
+    public static native void callPV(int param0, @Nullable long[] param1, long __functionAddress);
+    public static native void callPV(int param0, @Nullable short[] param1, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable double[] param2, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable float[] param2, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable int[] param2, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable long[] param2, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable short[] param2, long __functionAddress);
+    public static native void callPV(int param0, @Nullable int[] param1, int param2, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, @Nullable double[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, @Nullable float[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, @Nullable long[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, @Nullable short[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, boolean param2, @Nullable double[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, boolean param2, @Nullable float[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, boolean param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable int[] param2, int param3, long __functionAddress);
+    public static native void callPV(int param0, @Nullable int[] param1, int param2, int param3, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, @Nullable double[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, @Nullable float[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, @Nullable long[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, @Nullable short[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, boolean param3, @Nullable double[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, boolean param3, @Nullable float[] param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, @Nullable int[] param3, boolean param4, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable int[] param2, int param3, int param4, long __functionAddress);
+    public static native void callPV(int param0, boolean param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPV(int param0, double param1, double param2, int param3, int param4, @Nullable double[] param5, long __functionAddress);
+    public static native void callPV(int param0, float param1, float param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable double[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, @Nullable short[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, boolean param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable float[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable int[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, boolean param3, int param4, @Nullable short[] param5, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable double[] param6, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable int[] param6, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, @Nullable short[] param6, long __functionAddress);
+    public static native void callPV(int param0, int param1, @Nullable int[] param2, int param3, int param4, int param5, int param6, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable double[] param7, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable float[] param7, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable int[] param7, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, @Nullable short[] param7, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable double[] param8, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable float[] param8, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable int[] param8, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, @Nullable short[] param8, long __functionAddress);
+    public static native void callPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, @Nullable double[] param9, long __functionAddress);
+    public static native void callPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, @Nullable float[] param9, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable double[] param9, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable float[] param9, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable int[] param9, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, @Nullable short[] param9, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable double[] param10, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable float[] param10, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable int[] param10, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, @Nullable short[] param10, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable double[] param11, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable float[] param11, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable int[] param11, long __functionAddress);
+    public static native void callPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, @Nullable short[] param11, long __functionAddress);
+    public static native void callPPV(long param0, @Nullable float[] param1, long __functionAddress);
+    public static native void callPPV(long param0, @Nullable int[] param1, long __functionAddress);
+    public static native void callPPV(@Nullable double[] param0, @Nullable double[] param1, long __functionAddress);
+    public static native void callPPV(@Nullable float[] param0, @Nullable float[] param1, long __functionAddress);
+    public static native void callPPV(@Nullable int[] param0, @Nullable int[] param1, long __functionAddress);
+    public static native void callPPV(@Nullable short[] param0, @Nullable short[] param1, long __functionAddress);
+    public static native void callPPV(int param0, long param1, @Nullable int[] param2, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, @Nullable float[] param2, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, @Nullable long[] param2, long __functionAddress);
+    public static native void callPPV(@Nullable int[] param0, int param1, @Nullable int[] param2, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPPV(int param0, int param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native void callPPV(int param0, int param1, @Nullable int[] param2, @Nullable float[] param3, long __functionAddress);
+    public static native void callPPV(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPPV(int param0, int param1, @Nullable int[] param2, @Nullable long[] param3, long __functionAddress);
+    public static native void callPPV(int param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPPV(int param0, long param1, @Nullable double[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, long param1, @Nullable float[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, long param1, @Nullable int[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, long param1, @Nullable long[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, long param1, @Nullable short[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable long[] param1, @Nullable int[] param2, int param3, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, @Nullable int[] param3, int param4, long __functionAddress);
+    public static native void callPPV(int param0, int param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, int param2, long param3, int param4, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, int param2, @Nullable int[] param3, int param4, long __functionAddress);
+    public static native void callPPV(int param0, @Nullable int[] param1, long param2, int param3, int param4, long __functionAddress);
+    public static native void callPPV(long param0, int param1, int param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, long param5, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, int param3, int param4, @Nullable short[] param5, long __functionAddress);
+    public static native void callPPV(int param0, int param1, @Nullable int[] param2, long param3, int param4, int param5, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, long param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, @Nullable float[] param7, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, @Nullable short[] param7, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, @Nullable float[] param7, long __functionAddress);
+    public static native void callPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, @Nullable float[] param8, long __functionAddress);
+    public static native void callPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, @Nullable float[] param8, long __functionAddress);
+    public static native void callPJPV(long param0, long param1, @Nullable long[] param2, long __functionAddress);
+    public static native void callPPPV(long param0, @Nullable int[] param1, long param2, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, long param2, @Nullable double[] param3, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, long param2, @Nullable float[] param3, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, long param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, long param2, @Nullable long[] param3, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, long param2, @Nullable short[] param3, long __functionAddress);
+    public static native void callPPPV(long param0, int param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native void callPPPV(long param0, int param1, @Nullable long[] param2, long param3, long __functionAddress);
+    public static native void callPPPV(long param0, long param1, int param2, @Nullable int[] param3, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, @Nullable double[] param4, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, @Nullable float[] param4, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, @Nullable short[] param4, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, @Nullable int[] param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, @Nullable int[] param2, @Nullable int[] param3, long param4, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, int param2, @Nullable int[] param3, long param4, long __functionAddress);
+    public static native void callPPPV(int param0, long param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPPV(int param0, @Nullable int[] param1, @Nullable int[] param2, int param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPPV(long param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPPPV(long param0, int param1, int param2, @Nullable long[] param3, @Nullable long[] param4, long __functionAddress);
+    public static native void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable double[] param5, long __functionAddress);
+    public static native void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable float[] param5, long __functionAddress);
+    public static native void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable int[] param5, long __functionAddress);
+    public static native void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable long[] param5, long __functionAddress);
+    public static native void callPJPV(long param0, long param1, int param2, int param3, int param4, @Nullable short[] param5, long __functionAddress);
+    public static native void callPPJV(long param0, int param1, @Nullable long[] param2, int param3, long param4, int param5, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, long param5, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, int param2, @Nullable int[] param3, long param4, @Nullable int[] param5, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, @Nullable int[] param2, int param3, @Nullable int[] param4, @Nullable int[] param5, long __functionAddress);
+    public static native void callPPPV(int param0, @Nullable int[] param1, int param2, long param3, int param4, @Nullable int[] param5, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable float[] param6, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable int[] param6, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, long param2, long param3, int param4, int param5, @Nullable short[] param6, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, int param5, @Nullable int[] param6, @Nullable float[] param7, long __functionAddress);
+    public static native void callPPPV(int param0, int param1, int param2, int param3, @Nullable int[] param4, int param5, @Nullable int[] param6, @Nullable int[] param7, long __functionAddress);
+    public static native void callPPPV(long param0, int param1, int param2, int param3, int param4, int param5, @Nullable int[] param6, long param7, long __functionAddress);
+    public static native void callPJPPV(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native void callPPPPV(long param0, long param1, @Nullable int[] param2, long param3, long __functionAddress);
+    public static native void callPPPPV(@Nullable long[] param0, @Nullable int[] param1, @Nullable int[] param2, @Nullable int[] param3, int param4, long __functionAddress);
+    public static native void callPPPPV(int param0, long param1, @Nullable int[] param2, @Nullable int[] param3, @Nullable int[] param4, int param5, long __functionAddress);
+    public static native void callPPPPV(long param0, int param1, int param2, @Nullable long[] param3, @Nullable long[] param4, @Nullable long[] param5, long __functionAddress);
+    public static native void callPPPPV(int param0, int param1, int param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, long param6, long __functionAddress);
+    public static native void callPPPPV(int param0, int param1, long param2, long param3, @Nullable int[] param4, @Nullable int[] param5, int param6, long __functionAddress);
+    public static native void callPJPPV(long param0, int param1, long param2, int param3, int param4, @Nullable long[] param5, int param6, @Nullable int[] param7, long __functionAddress);
+    public static native void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable double[] param4, long __functionAddress);
+    public static native void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable float[] param4, long __functionAddress);
+    public static native void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable int[] param4, long __functionAddress);
+    public static native void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable long[] param4, long __functionAddress);
+    public static native void callPJJJPV(long param0, long param1, long param2, long param3, @Nullable short[] param4, long __functionAddress);
+    public static native void callPPPPPV(int param0, int param1, long param2, @Nullable int[] param3, @Nullable int[] param4, @Nullable int[] param5, @Nullable int[] param6, long __functionAddress);
+    public static native void callPPPPPV(long param0, int param1, @Nullable long[] param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+    public static native void callPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, @Nullable int[] param6, @Nullable int[] param7, @Nullable int[] param8, @Nullable int[] param9, @Nullable long[] param10, long __functionAddress);
+    public static native boolean callPPZ(int param0, @Nullable int[] param1, long param2, long __functionAddress);
+    public static native boolean callPPPPZ(int param0, int param1, int param2, float param3, @Nullable float[] param4, @Nullable float[] param5, @Nullable float[] param6, @Nullable float[] param7, long __functionAddress);
+
+    // JNI fallback, bound by FFM.registerNatives
+
+    private static native byte ninvokePB(byte param0, long param1, long __functionAddress);
+    private static native double ninvokeD(long __functionAddress);
+    private static native double ninvokeD(int param0, long __functionAddress);
+    private static native double ninvokePD(long param0, long __functionAddress);
+    private static native double ninvokePD(long param0, int param1, long __functionAddress);
+    private static native double ninvokePPD(long param0, long param1, long __functionAddress);
+    private static native float ninvokeF(int param0, long __functionAddress);
+    private static native float ninvokePF(long param0, long __functionAddress);
+    private static native float ninvokePF(long param0, int param1, long __functionAddress);
+    private static native float ninvokePF(long param0, float param1, float param2, long __functionAddress);
+    private static native float ninvokePPF(long param0, long param1, long __functionAddress);
+    private static native float ninvokePPF(long param0, int param1, long param2, long __functionAddress);
+    private static native float ninvokePPF(long param0, float param1, long param2, int param3, long __functionAddress);
+    private static native int ninvokeI(long __functionAddress);
+    private static native int ninvokeI(int param0, long __functionAddress);
+    private static native int ninvokeI(boolean param0, long __functionAddress);
+    private static native int ninvokeI(int param0, int param1, long __functionAddress);
+    private static native int ninvokeI(int param0, short param1, long __functionAddress);
+    private static native int ninvokeI(int param0, int param1, int param2, long __functionAddress);
+    private static native int ninvokePI(long param0, long __functionAddress);
+    private static native int ninvokePI(int param0, long param1, long __functionAddress);
+    private static native int ninvokePI(long param0, int param1, long __functionAddress);
+    private static native int ninvokePI(long param0, short param1, long __functionAddress);
+    private static native int ninvokePI(short param0, long param1, long __functionAddress);
+    private static native int ninvokePI(long param0, int param1, int param2, long __functionAddress);
+    private static native int ninvokePI(short param0, long param1, byte param2, long __functionAddress);
+    private static native int ninvokePI(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native int ninvokePJI(long param0, long param1, long __functionAddress);
+    private static native int ninvokePNI(long param0, long param1, long __functionAddress);
+    private static native int ninvokePPI(long param0, long param1, long __functionAddress);
+    private static native int ninvokePPI(int param0, long param1, long param2, long __functionAddress);
+    private static native int ninvokePPI(long param0, int param1, long param2, long __functionAddress);
+    private static native int ninvokePPI(long param0, long param1, int param2, long __functionAddress);
+    private static native int ninvokePPI(long param0, long param1, short param2, long __functionAddress);
+    private static native int ninvokePPI(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native int ninvokePPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress);
+    private static native int ninvokePPI(int param0, long param1, int param2, long param3, int param4, boolean param5, long __functionAddress);
+    private static native int ninvokePPI(long param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native int ninvokePPI(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress);
+    private static native int ninvokePPJI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ninvokePPPI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ninvokePPPI(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ninvokePPPI(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native int ninvokePPPI(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native int ninvokePPPI(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+    private static native int ninvokePPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+    private static native int ninvokePPPI(long param0, long param1, int param2, long param3, int param4, int param5, long __functionAddress);
+    private static native int ninvokePPPI(long param0, int param1, int param2, int param3, long param4, long param5, int param6, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ninvokePNNPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress);
+    private static native int ninvokePPPPI(long param0, int param1, int param2, long param3, long param4, long param5, int param6, long __functionAddress);
+    private static native int ninvokePPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native int ninvokePJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress);
+    private static native int ninvokePPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ninvokePPPPPI(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress);
+    private static native int ninvokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ninvokePPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress);
+    private static native int ninvokePNNPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long param7, long __functionAddress);
+    private static native int ninvokePPPPPPPI(long param0, long param1, long param2, int param3, int param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress);
+    private static native int ninvokePPPPPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress);
+    private static native long ninvokeJ(long __functionAddress);
+    private static native long ninvokePJ(long param0, long __functionAddress);
+    private static native long ninvokePJ(long param0, int param1, long __functionAddress);
+    private static native long ninvokePJ(long param0, float param1, int param2, float param3, int param4, long __functionAddress);
+    private static native long ninvokePPJ(long param0, long param1, long __functionAddress);
+    private static native long ninvokePPJ(long param0, long param1, int param2, long __functionAddress);
+    private static native long ninvokePN(long param0, long __functionAddress);
+    private static native long ninvokePN(long param0, int param1, long __functionAddress);
+    private static native long ninvokePNPN(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native long ninvokePNPNPN(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long param10, long param11, long __functionAddress);
+    private static native long ninvokeP(long __functionAddress);
+    private static native long ninvokeP(int param0, long __functionAddress);
+    private static native long ninvokeP(short param0, long __functionAddress);
+    private static native long ninvokeP(boolean param0, long __functionAddress);
+    private static native long ninvokeP(int param0, int param1, long __functionAddress);
+    private static native long ninvokePP(long param0, long __functionAddress);
+    private static native long ninvokePP(int param0, long param1, long __functionAddress);
+    private static native long ninvokePP(long param0, byte param1, long __functionAddress);
+    private static native long ninvokePP(long param0, double param1, long __functionAddress);
+    private static native long ninvokePP(long param0, int param1, long __functionAddress);
+    private static native long ninvokePP(short param0, long param1, long __functionAddress);
+    private static native long ninvokePP(int param0, int param1, long param2, long __functionAddress);
+    private static native long ninvokePP(int param0, short param1, long param2, long __functionAddress);
+    private static native long ninvokePP(long param0, int param1, int param2, long __functionAddress);
+    private static native long ninvokePP(long param0, short param1, boolean param2, long __functionAddress);
+    private static native long ninvokePP(int param0, int param1, int param2, long param3, long __functionAddress);
+    private static native long ninvokePP(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native long ninvokeJP(short param0, short param1, short param2, byte param3, int param4, long param5, long __functionAddress);
+    private static native long ninvokePP(long param0, int param1, byte param2, int param3, boolean param4, boolean param5, long __functionAddress);
+    private static native long ninvokePP(long param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress);
+    private static native long ninvokePJP(long param0, long param1, long __functionAddress);
+    private static native long ninvokePPP(long param0, long param1, long __functionAddress);
+    private static native long ninvokePJP(long param0, int param1, long param2, long __functionAddress);
+    private static native long ninvokePJP(long param0, long param1, int param2, long __functionAddress);
+    private static native long ninvokePPP(int param0, long param1, long param2, long __functionAddress);
+    private static native long ninvokePPP(long param0, int param1, long param2, long __functionAddress);
+    private static native long ninvokePPP(long param0, long param1, byte param2, long __functionAddress);
+    private static native long ninvokePPP(long param0, long param1, int param2, long __functionAddress);
+    private static native long ninvokePPP(long param0, int param1, int param2, long param3, long __functionAddress);
+    private static native long ninvokePPP(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native long ninvokePPP(long param0, long param1, int param2, byte param3, long __functionAddress);
+    private static native long ninvokePPP(long param0, long param1, int param2, int param3, long __functionAddress);
+    private static native long ninvokePPP(long param0, long param1, boolean param2, boolean param3, long __functionAddress);
+    private static native long ninvokePPP(long param0, boolean param1, boolean param2, long param3, long __functionAddress);
+    private static native long ninvokePPP(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native long ninvokePPP(long param0, short param1, short param2, short param3, short param4, long param5, long __functionAddress);
+    private static native long ninvokePPP(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long __functionAddress);
+    private static native long ninvokePJJP(long param0, long param1, long param2, long __functionAddress);
+    private static native long ninvokePPJP(long param0, long param1, long param2, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, long param2, long __functionAddress);
+    private static native long ninvokePPPP(int param0, long param1, long param2, long param3, long __functionAddress);
+    private static native long ninvokePPPP(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native long ninvokePPPP(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPP(long param0, int param1, int param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, long param2, int param3, int param4, long __functionAddress);
+    private static native long ninvokeJPPP(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ninvokePPJP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native long ninvokePPPP(long param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, long __functionAddress);
+    private static native long ninvokePPPP(int param0, int param1, int param2, long param3, long param4, int param5, long param6, long __functionAddress);
+    private static native long ninvokePPPP(long param0, long param1, int param2, int param3, long param4, int param5, int param6, long __functionAddress);
+    private static native long ninvokePPJPP(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native long ninvokePPPJP(int param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native long ninvokePJPPP(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ninvokePJPPP(long param0, long param1, int param2, long param3, long param4, int param5, long __functionAddress);
+    private static native long ninvokePPPJP(long param0, long param1, long param2, long param3, int param4, int param5, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, long param2, int param3, long param4, int param5, int param6, long __functionAddress);
+    private static native long ninvokePPPPP(long param0, long param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress);
+    private static native long ninvokePPPPP(int param0, int param1, int param2, long param3, long param4, long param5, int param6, long param7, long __functionAddress);
+    private static native long ninvokePJPJPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePNNNPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress);
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress);
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+    private static native long ninvokePPJPPP(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress);
+    private static native long ninvokePPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, int param6, int param7, long __functionAddress);
+    private static native long ninvokePPJJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, int param3, long param4, long param5, long param6, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, int param9, long __functionAddress);
+    private static native long ninvokePPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, int param9, long __functionAddress);
+    private static native long ninvokePPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+    private static native long ninvokePPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long __functionAddress);
+    private static native long ninvokePPPPJJPPP(long param0, long param1, long param2, long param3, int param4, long param5, int param6, long param7, int param8, long param9, long param10, long __functionAddress);
+    private static native long ninvokePPPPPJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+    private static native long ninvokePPPPPJPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+    private static native long ninvokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, long param10, long param11, long __functionAddress);
+    private static native long ninvokePPPPPJPPP(long param0, int param1, long param2, long param3, long param4, long param5, int param6, int param7, long param8, int param9, int param10, long param11, long param12, long __functionAddress);
+    private static native long ninvokePPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, long __functionAddress);
+    private static native long ninvokePPPPPPPPP(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, int param8, long param9, long param10, int param11, int param12, int param13, int param14, long __functionAddress);
+    private static native long ninvokePPPPPJJJPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress);
+    private static native long ninvokePPPPPPPPPP(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, int param9, long param10, long __functionAddress);
+    private static native long ninvokePPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, int param11, long __functionAddress);
+    private static native long ninvokePPPPPJPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, int param10, int param11, long param12, long param13, long __functionAddress);
+    private static native long ninvokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress);
+    private static native long ninvokePPPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long __functionAddress);
+    private static native long ninvokePPPPPJPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, int param8, long param9, long param10, int param11, int param12, long param13, long param14, long param15, long __functionAddress);
+    private static native long ninvokePPPPPJJPPPPPPP(long param0, long param1, long param2, long param3, long param4, int param5, long param6, int param7, long param8, int param9, long param10, long param11, int param12, long param13, long param14, long param15, long param16, long __functionAddress);
+    private static native short ninvokeS(long __functionAddress);
+    private static native short ninvokeS(int param0, long __functionAddress);
+    private static native short ninvokeS(int param0, short param1, long __functionAddress);
+    private static native short ninvokeS(short param0, byte param1, long __functionAddress);
+    private static native short ninvokeS(short param0, boolean param1, long __functionAddress);
+    private static native short ninvokeS(short param0, short param1, boolean param2, long __functionAddress);
+    private static native short ninvokeS(short param0, short param1, short param2, short param3, long __functionAddress);
+    private static native short ninvokePS(long param0, long __functionAddress);
+    private static native short ninvokePS(long param0, short param1, long __functionAddress);
+    private static native short ninvokeJS(int param0, int param1, long param2, long __functionAddress);
+    private static native short ninvokePS(byte param0, long param1, boolean param2, long __functionAddress);
+    private static native short ninvokePS(int param0, long param1, short param2, long __functionAddress);
+    private static native short ninvokePS(long param0, int param1, short param2, long __functionAddress);
+    private static native short ninvokePS(short param0, long param1, short param2, long __functionAddress);
+    private static native short ninvokeJS(short param0, short param1, int param2, long param3, long __functionAddress);
+    private static native short ninvokeJS(int param0, boolean param1, short param2, int param3, long param4, long __functionAddress);
+    private static native short ninvokePS(long param0, short param1, short param2, int param3, int param4, long __functionAddress);
+    private static native short ninvokePS(long param0, short param1, short param2, short param3, short param4, long __functionAddress);
+    private static native short ninvokePPS(long param0, long param1, short param2, long __functionAddress);
+    private static native short ninvokeJPS(short param0, boolean param1, short param2, int param3, long param4, long param5, long __functionAddress);
+    private static native short ninvokeJPS(short param0, short param1, short param2, boolean param3, int param4, long param5, long param6, long __functionAddress);
+    private static native short ninvokeJPS(short param0, short param1, boolean param2, short param3, int param4, long param5, long param6, long __functionAddress);
+    private static native short ninvokePJPS(long param0, long param1, byte param2, long param3, long __functionAddress);
+    private static native short ninvokePPPS(long param0, long param1, long param2, short param3, float param4, long __functionAddress);
+    private static native void ninvokeV(long __functionAddress);
+    private static native void ninvokeV(double param0, long __functionAddress);
+    private static native void ninvokeV(float param0, long __functionAddress);
+    private static native void ninvokeV(int param0, long __functionAddress);
+    private static native void ninvokeV(short param0, long __functionAddress);
+    private static native void ninvokeV(byte param0, int param1, long __functionAddress);
+    private static native void ninvokeV(byte param0, boolean param1, long __functionAddress);
+    private static native void ninvokeV(int param0, float param1, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, long __functionAddress);
+    private static native void ninvokeV(int param0, short param1, long __functionAddress);
+    private static native void ninvokeV(short param0, int param1, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, long __functionAddress);
+    private static native void ninvokeV(short param0, boolean param1, long __functionAddress);
+    private static native void ninvokeV(byte param0, short param1, int param2, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, double param2, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, float param2, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, int param2, long __functionAddress);
+    private static native void ninvokeV(short param0, int param1, int param2, long __functionAddress);
+    private static native void ninvokeV(byte param0, short param1, int param2, int param3, long __functionAddress);
+    private static native void ninvokeV(byte param0, short param1, short param2, int param3, long __functionAddress);
+    private static native void ninvokeV(int param0, float param1, float param2, float param3, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, int param2, int param3, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, int param2, boolean param3, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, short param2, int param3, long __functionAddress);
+    private static native void ninvokeV(byte param0, short param1, byte param2, int param3, int param4, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, double param2, double param3, double param4, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, float param2, float param3, float param4, long __functionAddress);
+    private static native void ninvokeV(int param0, int param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, int param2, float param3, byte param4, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, short param2, int param3, boolean param4, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, short param2, short param3, short param4, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, short param2, short param3, short param4, int param5, boolean param6, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, float param2, byte param3, byte param4, byte param5, byte param6, byte param7, byte param8, byte param9, byte param10, byte param11, long __functionAddress);
+    private static native void ninvokeV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, byte param7, short param8, short param9, short param10, short param11, short param12, short param13, long __functionAddress);
+    private static native void ninvokePV(long param0, long __functionAddress);
+    private static native void ninvokeJV(long param0, int param1, long __functionAddress);
+    private static native void ninvokePV(byte param0, long param1, long __functionAddress);
+    private static native void ninvokePV(int param0, long param1, long __functionAddress);
+    private static native void ninvokePV(long param0, float param1, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, long __functionAddress);
+    private static native void ninvokePV(long param0, boolean param1, long __functionAddress);
+    private static native void ninvokePV(short param0, long param1, long __functionAddress);
+    private static native void ninvokeJV(int param0, int param1, long param2, long __functionAddress);
+    private static native void ninvokePV(int param0, int param1, long param2, long __functionAddress);
+    private static native void ninvokePV(long param0, double param1, double param2, long __functionAddress);
+    private static native void ninvokePV(long param0, float param1, float param2, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, double param2, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, int param2, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, short param2, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, boolean param2, long __functionAddress);
+    private static native void ninvokePV(short param0, int param1, long param2, long __functionAddress);
+    private static native void ninvokePV(short param0, long param1, int param2, long __functionAddress);
+    private static native void ninvokePV(short param0, long param1, short param2, long __functionAddress);
+    private static native void ninvokePV(short param0, short param1, long param2, long __functionAddress);
+    private static native void ninvokePV(byte param0, long param1, int param2, int param3, long __functionAddress);
+    private static native void ninvokePV(long param0, byte param1, short param2, int param3, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, int param2, int param3, long __functionAddress);
+    private static native void ninvokePV(short param0, short param1, byte param2, long param3, long __functionAddress);
+    private static native void ninvokePV(int param0, int param1, long param2, int param3, int param4, long __functionAddress);
+    private static native void ninvokePV(long param0, byte param1, short param2, short param3, int param4, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, int param3, boolean param4, long __functionAddress);
+    private static native void ninvokePV(long param0, byte param1, short param2, byte param3, int param4, int param5, long __functionAddress);
+    private static native void ninvokePV(long param0, byte param1, short param2, int param3, int param4, short param5, long __functionAddress);
+    private static native void ninvokePV(long param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, int param2, short param3, short param4, byte param5, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, int param3, int param4, int param5, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, int param4, boolean param5, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, short param4, short param5, long __functionAddress);
+    private static native void ninvokePV(short param0, short param1, short param2, short param3, long param4, short param5, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, short param4, short param5, int param6, boolean param7, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, short param3, boolean param4, boolean param5, short param6, int param7, long __functionAddress);
+    private static native void ninvokePV(short param0, byte param1, short param2, short param3, short param4, short param5, short param6, short param7, long param8, long __functionAddress);
+    private static native void ninvokePV(short param0, short param1, byte param2, short param3, short param4, short param5, short param6, long param7, short param8, long __functionAddress);
+    private static native void ninvokePV(short param0, short param1, byte param2, byte param3, short param4, short param5, short param6, short param7, long param8, short param9, long __functionAddress);
+    private static native void ninvokePV(long param0, short param1, short param2, byte param3, short param4, short param5, short param6, short param7, byte param8, short param9, short param10, short param11, short param12, short param13, short param14, long __functionAddress);
+    private static native void ninvokePJV(long param0, long param1, long __functionAddress);
+    private static native void ninvokePPV(long param0, long param1, long __functionAddress);
+    private static native void ninvokePJV(long param0, int param1, long param2, long __functionAddress);
+    private static native void ninvokePJV(long param0, long param1, int param2, long __functionAddress);
+    private static native void ninvokePPV(int param0, long param1, long param2, long __functionAddress);
+    private static native void ninvokePPV(long param0, int param1, long param2, long __functionAddress);
+    private static native void ninvokePPV(long param0, long param1, float param2, long __functionAddress);
+    private static native void ninvokePPV(long param0, long param1, int param2, long __functionAddress);
+    private static native void ninvokePPV(long param0, long param1, boolean param2, long __functionAddress);
+    private static native void ninvokePPV(short param0, long param1, long param2, long __functionAddress);
+    private static native void ninvokePPV(long param0, int param1, int param2, long param3, long __functionAddress);
+    private static native void ninvokePPV(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native void ninvokePPV(long param0, long param1, int param2, int param3, long __functionAddress);
+    private static native void ninvokePPV(long param0, short param1, long param2, short param3, long __functionAddress);
+    private static native void ninvokePPV(long param0, float param1, long param2, int param3, int param4, long __functionAddress);
+    private static native void ninvokePPV(short param0, short param1, byte param2, long param3, long param4, long __functionAddress);
+    private static native void ninvokePPV(long param0, byte param1, long param2, int param3, int param4, short param5, long __functionAddress);
+    private static native void ninvokePPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ninvokePNPV(long param0, long param1, long param2, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, long param2, long __functionAddress);
+    private static native void ninvokePJJV(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native void ninvokePJPV(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native void ninvokePPPV(int param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ninvokePPPV(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native void ninvokeJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ninvokePPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ninvokePPPV(long param0, int param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, int param2, long param3, short param4, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, long param2, boolean param3, boolean param4, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, short param2, int param3, long param4, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, long param2, int param3, boolean param4, boolean param5, long __functionAddress);
+    private static native void ninvokePPPV(long param0, boolean param1, int param2, long param3, long param4, int param5, long __functionAddress);
+    private static native void ninvokePPPV(long param0, long param1, int param2, int param3, int param4, long param5, int param6, boolean param7, long __functionAddress);
+    private static native void ninvokePNPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ninvokePPPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ninvokePPPPV(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ninvokePPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ninvokePPPPV(long param0, long param1, short param2, long param3, long param4, long __functionAddress);
+    private static native void ninvokePPPPPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ninvokePPPPPV(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native void ninvokePPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, int param8, boolean param9, long __functionAddress);
+    private static native void ninvokePPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native void ninvokePPPPPPPV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+    private static native boolean ninvokeZ(long __functionAddress);
+    private static native boolean ninvokeZ(int param0, long __functionAddress);
+    private static native boolean ninvokePZ(long param0, long __functionAddress);
+    private static native boolean ninvokePZ(long param0, int param1, long __functionAddress);
+    private static native boolean ninvokePZ(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native boolean ninvokeJZ(short param0, boolean param1, short param2, int param3, long param4, long __functionAddress);
+    private static native boolean ninvokePPZ(long param0, long param1, long __functionAddress);
+    private static native boolean ninvokePPPZ(long param0, long param1, long param2, long __functionAddress);
+    private static native boolean ninvokePJPZ(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native boolean ninvokePPPZ(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native boolean ninvokePPPZ(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+    private static native boolean ninvokePPPZ(long param0, long param1, long param2, boolean param3, int param4, long __functionAddress);
+    private static native boolean ninvokePPPPZ(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native boolean ninvokePPPPZ(long param0, long param1, long param2, byte param3, long param4, long __functionAddress);
+    private static native boolean ninvokePPPPPZ(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+    private static native boolean ninvokePPPPPZ(long param0, long param1, long param2, long param3, long param4, boolean param5, int param6, long __functionAddress);
+    private static native float ncallF(long __functionAddress);
+    private static native float ncallF(int param0, int param1, int param2, long __functionAddress);
+    private static native float ncallPF(int param0, int param1, long param2, long __functionAddress);
+    private static native float ncallPPPF(long param0, long param1, long param2, long __functionAddress);
+    private static native int ncallI(long __functionAddress);
+    private static native int ncallI(int param0, long __functionAddress);
+    private static native int ncallI(int param0, float param1, long __functionAddress);
+    private static native int ncallI(int param0, int param1, long __functionAddress);
+    private static native int ncallI(int param0, int param1, int param2, long __functionAddress);
+    private static native int ncallJI(long param0, long __functionAddress);
+    private static native int ncallPI(long param0, long __functionAddress);
+    private static native int ncallJI(int param0, long param1, long __functionAddress);
+    private static native int ncallJI(long param0, float param1, long __functionAddress);
+    private static native int ncallJI(long param0, int param1, long __functionAddress);
+    private static native int ncallPI(int param0, long param1, long __functionAddress);
+    private static native int ncallPI(long param0, float param1, long __functionAddress);
+    private static native int ncallPI(long param0, int param1, long __functionAddress);
+    private static native int ncallPI(long param0, boolean param1, long __functionAddress);
+    private static native int ncallJI(long param0, float param1, float param2, long __functionAddress);
+    private static native int ncallJI(long param0, int param1, boolean param2, long __functionAddress);
+    private static native int ncallPI(int param0, int param1, long param2, long __functionAddress);
+    private static native int ncallPI(int param0, long param1, int param2, long __functionAddress);
+    private static native int ncallPI(long param0, float param1, float param2, long __functionAddress);
+    private static native int ncallPI(long param0, int param1, float param2, long __functionAddress);
+    private static native int ncallPI(long param0, int param1, int param2, long __functionAddress);
+    private static native int ncallJI(long param0, float param1, float param2, float param3, long __functionAddress);
+    private static native int ncallPI(int param0, int param1, int param2, long param3, long __functionAddress);
+    private static native int ncallPI(int param0, long param1, int param2, int param3, long __functionAddress);
+    private static native int ncallPI(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native int ncallPI(int param0, int param1, int param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPI(long param0, int param1, int param2, int param3, int param4, long __functionAddress);
+    private static native int ncallPI(int param0, int param1, int param2, float param3, float param4, long param5, long __functionAddress);
+    private static native int ncallPI(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native int ncallPI(int param0, long param1, int param2, int param3, float param4, int param5, long __functionAddress);
+    private static native int ncallPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+    private static native int ncallPI(int param0, int param1, long param2, int param3, int param4, int param5, int param6, float param7, long __functionAddress);
+    private static native int ncallJJI(long param0, long param1, long __functionAddress);
+    private static native int ncallJPI(long param0, long param1, long __functionAddress);
+    private static native int ncallPJI(long param0, long param1, long __functionAddress);
+    private static native int ncallPPI(long param0, long param1, long __functionAddress);
+    private static native int ncallJJI(int param0, long param1, long param2, long __functionAddress);
+    private static native int ncallJPI(long param0, int param1, long param2, long __functionAddress);
+    private static native int ncallJPI(long param0, long param1, int param2, long __functionAddress);
+    private static native int ncallPJI(long param0, int param1, long param2, long __functionAddress);
+    private static native int ncallPJI(long param0, long param1, int param2, long __functionAddress);
+    private static native int ncallPPI(int param0, long param1, long param2, long __functionAddress);
+    private static native int ncallPPI(long param0, byte param1, long param2, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, long param2, long __functionAddress);
+    private static native int ncallPPI(long param0, long param1, float param2, long __functionAddress);
+    private static native int ncallPPI(long param0, long param1, int param2, long __functionAddress);
+    private static native int ncallPPI(long param0, short param1, long param2, long __functionAddress);
+    private static native int ncallJPI(long param0, int param1, long param2, float param3, long __functionAddress);
+    private static native int ncallJPI(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native int ncallJPI(long param0, long param1, int param2, int param3, long __functionAddress);
+    private static native int ncallPJI(long param0, int param1, int param2, long param3, long __functionAddress);
+    private static native int ncallPPI(int param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPI(int param0, long param1, long param2, int param3, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, int param2, long param3, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native int ncallPPI(long param0, long param1, int param2, int param3, long __functionAddress);
+    private static native int ncallJPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress);
+    private static native int ncallJPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+    private static native int ncallPPI(int param0, int param1, int param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPI(int param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, int param2, long param3, int param4, long __functionAddress);
+    private static native int ncallPPI(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+    private static native int ncallJJI(long param0, float param1, float param2, float param3, float param4, long param5, long __functionAddress);
+    private static native int ncallPPI(int param0, int param1, int param2, long param3, int param4, long param5, long __functionAddress);
+    private static native int ncallPPI(long param0, long param1, int param2, int param3, int param4, int param5, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+    private static native int ncallPPI(int param0, int param1, long param2, long param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress);
+    private static native int ncallPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress);
+    private static native int ncallJJPI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ncallJPPI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ncallPJPI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ncallPPJI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ncallPPPI(long param0, long param1, long param2, long __functionAddress);
+    private static native int ncallJJPI(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native int ncallJPJI(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native int ncallJPPI(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ncallJPPI(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native int ncallJPPI(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native int ncallPJPI(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPJPI(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native int ncallPPJI(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPJI(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native int ncallPPJI(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native int ncallPPNI(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPPI(int param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPPI(long param0, byte param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPPI(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPPI(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native int ncallPPPI(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native int ncallPPPI(long param0, short param1, long param2, long param3, long __functionAddress);
+    private static native int ncallJPJI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ncallJPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ncallJPPI(long param0, int param1, long param2, long param3, int param4, long __functionAddress);
+    private static native int ncallJPPI(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPPJI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPPPI(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPPI(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPPPI(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+    private static native int ncallJPJI(long param0, int param1, float param2, long param3, int param4, long param5, long __functionAddress);
+    private static native int ncallJPPI(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress);
+    private static native int ncallPPPI(long param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPI(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native int ncallPPJI(int param0, int param1, long param2, int param3, long param4, boolean param5, long param6, long __functionAddress);
+    private static native int ncallPPPI(long param0, long param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+    private static native int ncallPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long __functionAddress);
+    private static native int ncallJPPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPJJJI(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPJPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPNPI(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native int ncallJPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPJPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPPPI(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, byte param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, short param2, long param3, long param4, long __functionAddress);
+    private static native int ncallJPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long __functionAddress);
+    private static native int ncallPJPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPI(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPI(long param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPI(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPI(long param0, int param1, long param2, int param3, int param4, long param5, long param6, long __functionAddress);
+    private static native int ncallJPPJI(long param0, int param1, int param2, long param3, int param4, long param5, boolean param6, long param7, long __functionAddress);
+    private static native int ncallPPPPI(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long param9, long param10, long __functionAddress);
+    private static native int ncallPPPPI(int param0, long param1, long param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, int param18, int param19, int param20, long param21, long param22, long __functionAddress);
+    private static native int ncallPJPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native int ncallPJJJPI(long param0, long param1, long param2, long param3, int param4, long param5, long __functionAddress);
+    private static native int ncallPJPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, byte param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, long param2, int param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, short param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallJJPPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress);
+    private static native int ncallPPJPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long __functionAddress);
+    private static native int ncallPPJPPI(long param0, long param1, int param2, long param3, int param4, long param5, long param6, long __functionAddress);
+    private static native int ncallPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress);
+    private static native int ncallJPPPPI(int param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPJPPJI(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress);
+    private static native int ncallPPPPPI(long param0, int param1, long param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPJJJJPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native int ncallPJPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPJPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPPPPI(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPPPPI(long param0, int param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPPPPPI(long param0, long param1, long param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native int ncallPPPPPPPI(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress);
+    private static native int ncallPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress);
+    private static native int ncallPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, int param6, long param7, long param8, long __functionAddress);
+    private static native int ncallPPPPPPPPI(long param0, long param1, long param2, long param3, int param4, long param5, long param6, int param7, long param8, long param9, long __functionAddress);
+    private static native int ncallJPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress);
+    private static native int ncallPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long __functionAddress);
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, int param10, long param11, long param12, long __functionAddress);
+    private static native int ncallPPPPPPPPPPPPI(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, int param11, long param12, long param13, long __functionAddress);
+    private static native long ncallJ(long __functionAddress);
+    private static native long ncallJ(int param0, long __functionAddress);
+    private static native long ncallJ(int param0, int param1, long __functionAddress);
+    private static native long ncallJ(int param0, int param1, boolean param2, int param3, int param4, long __functionAddress);
+    private static native long ncallJJ(long param0, long __functionAddress);
+    private static native long ncallPJ(long param0, long __functionAddress);
+    private static native long ncallPJ(int param0, int param1, long param2, long __functionAddress);
+    private static native long ncallPPJ(long param0, long param1, long __functionAddress);
+    private static native long ncallPPJ(long param0, int param1, long param2, long __functionAddress);
+    private static native long ncallPN(long param0, long __functionAddress);
+    private static native long ncallP(long __functionAddress);
+    private static native long ncallP(int param0, long __functionAddress);
+    private static native long ncallP(int param0, int param1, long __functionAddress);
+    private static native long ncallP(int param0, float param1, float param2, float param3, long __functionAddress);
+    private static native long ncallPP(long param0, long __functionAddress);
+    private static native long ncallPP(int param0, long param1, long __functionAddress);
+    private static native long ncallPP(long param0, int param1, long __functionAddress);
+    private static native long ncallPP(int param0, long param1, int param2, long __functionAddress);
+    private static native long ncallPP(long param0, int param1, int param2, long __functionAddress);
+    private static native long ncallPNP(long param0, long param1, long __functionAddress);
+    private static native long ncallPPP(long param0, long param1, long __functionAddress);
+    private static native long ncallPPP(int param0, long param1, long param2, long __functionAddress);
+    private static native long ncallPPP(long param0, int param1, long param2, long __functionAddress);
+    private static native long ncallPPP(long param0, long param1, int param2, long __functionAddress);
+    private static native long ncallPPP(int param0, long param1, long param2, int param3, long __functionAddress);
+    private static native long ncallPPP(int param0, int param1, int param2, long param3, long param4, long __functionAddress);
+    private static native long ncallPPP(long param0, int param1, int param2, int param3, long param4, long __functionAddress);
+    private static native long ncallPPP(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+    private static native long ncallPPNP(long param0, long param1, long param2, long __functionAddress);
+    private static native long ncallPPPP(long param0, long param1, long param2, long __functionAddress);
+    private static native long ncallPJPP(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native long ncallPJPP(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native long ncallPPPP(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native long ncallPPPP(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native long ncallPPPP(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native long ncallPPPP(long param0, long param1, int param2, int param3, long param4, long __functionAddress);
+    private static native long ncallPPPP(long param0, long param1, int param2, long param3, int param4, long __functionAddress);
+    private static native long ncallPJPP(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native long ncallPPJPP(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native long ncallPPNPP(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native long ncallPPPPP(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native long ncallPJPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native long ncallPJPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native long ncallPPPPP(long param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ncallPPPPP(long param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native long ncallPPPPP(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native long ncallPPPPP(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native long ncallPJPPP(long param0, long param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native long ncallPJPPPP(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native long ncallPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ncallPJPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ncallPPPJPPP(long param0, long param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native long ncallPPPPPPP(long param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+    private static native long ncallPPPPPPP(long param0, int param1, long param2, long param3, int param4, long param5, long param6, long param7, long __functionAddress);
+    private static native long ncallPPPPPPPP(int param0, long param1, long param2, int param3, int param4, int param5, int param6, long param7, long param8, long param9, int param10, long param11, long param12, long __functionAddress);
+    private static native long ncallPJPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long __functionAddress);
+    private static native long ncallPPJPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, int param6, long param7, long param8, long param9, long __functionAddress);
+    private static native long ncallPJPPPPPPPPP(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long __functionAddress);
+    private static native long ncallPPJPPPPPPPP(long param0, long param1, int param2, long param3, long param4, long param5, long param6, long param7, int param8, long param9, long param10, long param11, long __functionAddress);
+    private static native short ncallS(int param0, long __functionAddress);
+    private static native short ncallPS(long param0, long __functionAddress);
+    private static native short ncallPS(long param0, short param1, long __functionAddress);
+    private static native short ncallPS(short param0, long param1, long __functionAddress);
+    private static native short ncallPS(short param0, long param1, short param2, long __functionAddress);
+    private static native short ncallPPS(long param0, long param1, long __functionAddress);
+    private static native short ncallPPS(long param0, long param1, int param2, long __functionAddress);
+    private static native short ncallPPS(long param0, long param1, short param2, long __functionAddress);
+    private static native short ncallPPS(long param0, short param1, long param2, long __functionAddress);
+    private static native short ncallPPS(short param0, long param1, long param2, long __functionAddress);
+    private static native short ncallPJS(long param0, long param1, short param2, short param3, long __functionAddress);
+    private static native short ncallPPS(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native short ncallPPS(long param0, short param1, short param2, long param3, int param4, long __functionAddress);
+    private static native short ncallPPPS(long param0, long param1, long param2, long __functionAddress);
+    private static native short ncallPPPS(long param0, long param1, short param2, long param3, long __functionAddress);
+    private static native short ncallPPPS(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native short ncallPPPS(long param0, short param1, long param2, short param3, long param4, long __functionAddress);
+    private static native short ncallPPPS(long param0, short param1, short param2, long param3, int param4, long param5, long __functionAddress);
+    private static native short ncallPPPS(short param0, long param1, short param2, short param3, long param4, short param5, long param6, long __functionAddress);
+    private static native short ncallPPPPS(long param0, short param1, long param2, long param3, long param4, long __functionAddress);
+    private static native short ncallPPPPS(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+    private static native short ncallPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, long __functionAddress);
+    private static native short ncallPPPPS(long param0, short param1, short param2, long param3, long param4, long param5, long __functionAddress);
+    private static native short ncallPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long __functionAddress);
+    private static native short ncallPPPPS(long param0, short param1, short param2, long param3, short param4, long param5, long param6, long __functionAddress);
+    private static native short ncallPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, short param7, short param8, long __functionAddress);
+    private static native short ncallPPPPS(long param0, short param1, long param2, short param3, long param4, short param5, long param6, short param7, short param8, short param9, long __functionAddress);
+    private static native short ncallPPPPPS(long param0, short param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native short ncallPPPPPS(long param0, long param1, long param2, short param3, long param4, short param5, long param6, short param7, long __functionAddress);
+    private static native short ncallPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, short param6, long param7, long __functionAddress);
+    private static native short ncallPPPPPS(short param0, long param1, short param2, long param3, long param4, long param5, short param6, long param7, long __functionAddress);
+    private static native short ncallPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long __functionAddress);
+    private static native short ncallPPPPPS(long param0, short param1, short param2, short param3, long param4, short param5, short param6, long param7, long param8, long param9, long __functionAddress);
+    private static native short ncallPPPPPS(long param0, short param1, short param2, short param3, short param4, long param5, short param6, long param7, long param8, long param9, long __functionAddress);
+    private static native short ncallPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long __functionAddress);
+    private static native short ncallPPPPPPPS(long param0, long param1, short param2, long param3, short param4, long param5, short param6, long param7, short param8, long param9, short param10, long param11, short param12, long __functionAddress);
+    private static native short ncallPPPPPPPPPS(long param0, short param1, long param2, short param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress);
+    private static native void ncallV(long __functionAddress);
+    private static native void ncallV(byte param0, long __functionAddress);
+    private static native void ncallV(double param0, long __functionAddress);
+    private static native void ncallV(float param0, long __functionAddress);
+    private static native void ncallV(int param0, long __functionAddress);
+    private static native void ncallV(short param0, long __functionAddress);
+    private static native void ncallV(boolean param0, long __functionAddress);
+    private static native void ncallV(double param0, double param1, long __functionAddress);
+    private static native void ncallV(float param0, float param1, long __functionAddress);
+    private static native void ncallV(float param0, boolean param1, long __functionAddress);
+    private static native void ncallV(int param0, double param1, long __functionAddress);
+    private static native void ncallV(int param0, float param1, long __functionAddress);
+    private static native void ncallV(int param0, int param1, long __functionAddress);
+    private static native void ncallV(int param0, short param1, long __functionAddress);
+    private static native void ncallV(int param0, boolean param1, long __functionAddress);
+    private static native void ncallV(short param0, short param1, long __functionAddress);
+    private static native void ncallV(byte param0, byte param1, byte param2, long __functionAddress);
+    private static native void ncallV(double param0, double param1, double param2, long __functionAddress);
+    private static native void ncallV(float param0, float param1, float param2, long __functionAddress);
+    private static native void ncallV(int param0, double param1, double param2, long __functionAddress);
+    private static native void ncallV(int param0, float param1, float param2, long __functionAddress);
+    private static native void ncallV(int param0, int param1, double param2, long __functionAddress);
+    private static native void ncallV(int param0, int param1, float param2, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, long __functionAddress);
+    private static native void ncallV(int param0, int param1, short param2, long __functionAddress);
+    private static native void ncallV(int param0, int param1, boolean param2, long __functionAddress);
+    private static native void ncallV(int param0, short param1, short param2, long __functionAddress);
+    private static native void ncallV(short param0, short param1, short param2, long __functionAddress);
+    private static native void ncallV(byte param0, byte param1, byte param2, byte param3, long __functionAddress);
+    private static native void ncallV(double param0, double param1, double param2, double param3, long __functionAddress);
+    private static native void ncallV(float param0, float param1, float param2, float param3, long __functionAddress);
+    private static native void ncallV(int param0, double param1, double param2, double param3, long __functionAddress);
+    private static native void ncallV(int param0, float param1, float param2, float param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, double param2, double param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, float param2, float param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, float param2, int param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, double param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, float param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, boolean param3, long __functionAddress);
+    private static native void ncallV(int param0, int param1, boolean param2, int param3, long __functionAddress);
+    private static native void ncallV(int param0, short param1, short param2, short param3, long __functionAddress);
+    private static native void ncallV(short param0, short param1, short param2, short param3, long __functionAddress);
+    private static native void ncallV(boolean param0, boolean param1, boolean param2, boolean param3, long __functionAddress);
+    private static native void ncallV(int param0, byte param1, byte param2, byte param3, byte param4, long __functionAddress);
+    private static native void ncallV(int param0, double param1, double param2, double param3, double param4, long __functionAddress);
+    private static native void ncallV(int param0, float param1, float param2, float param3, float param4, long __functionAddress);
+    private static native void ncallV(int param0, int param1, double param2, double param3, double param4, long __functionAddress);
+    private static native void ncallV(int param0, int param1, float param2, float param3, float param4, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, float param3, int param4, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, boolean param3, int param4, long __functionAddress);
+    private static native void ncallV(int param0, short param1, short param2, short param3, short param4, long __functionAddress);
+    private static native void ncallV(int param0, boolean param1, boolean param2, boolean param3, boolean param4, long __functionAddress);
+    private static native void ncallV(double param0, double param1, double param2, double param3, double param4, double param5, long __functionAddress);
+    private static native void ncallV(float param0, float param1, float param2, float param3, float param4, boolean param5, long __functionAddress);
+    private static native void ncallV(int param0, double param1, double param2, int param3, double param4, double param5, long __functionAddress);
+    private static native void ncallV(int param0, float param1, float param2, int param3, float param4, float param5, long __functionAddress);
+    private static native void ncallV(int param0, int param1, double param2, double param3, double param4, double param5, long __functionAddress);
+    private static native void ncallV(int param0, int param1, float param2, float param3, float param4, float param5, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, boolean param5, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, boolean param4, int param5, long __functionAddress);
+    private static native void ncallV(int param0, double param1, double param2, double param3, double param4, double param5, double param6, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, double param3, double param4, double param5, double param6, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, boolean param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ncallV(float param0, float param1, float param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, float param3, float param4, float param5, float param6, float param7, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, boolean param7, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, boolean param8, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long __functionAddress);
+    private static native void ncallV(int param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, long __functionAddress);
+    private static native void ncallV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, long __functionAddress);
+    private static native void ncallJV(long param0, long __functionAddress);
+    private static native void ncallPV(long param0, long __functionAddress);
+    private static native void ncallJV(int param0, long param1, long __functionAddress);
+    private static native void ncallJV(long param0, int param1, long __functionAddress);
+    private static native void ncallPV(int param0, long param1, long __functionAddress);
+    private static native void ncallPV(long param0, float param1, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, long __functionAddress);
+    private static native void ncallJV(int param0, int param1, long param2, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, long param2, long __functionAddress);
+    private static native void ncallPV(int param0, long param1, int param2, long __functionAddress);
+    private static native void ncallPV(long param0, float param1, float param2, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, int param2, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, short param2, long __functionAddress);
+    private static native void ncallJV(int param0, long param1, int param2, int param3, long __functionAddress);
+    private static native void ncallNV(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native void ncallPV(int param0, float param1, long param2, int param3, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, long param2, int param3, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, boolean param2, long param3, long __functionAddress);
+    private static native void ncallPV(int param0, long param1, int param2, int param3, long __functionAddress);
+    private static native void ncallPV(long param0, float param1, float param2, float param3, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, int param2, int param3, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, long param3, int param4, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, long param3, boolean param4, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, long param4, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, long __functionAddress);
+    private static native void ncallPV(int param0, long param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ncallPV(int param0, boolean param1, int param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPV(int param0, double param1, double param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPV(int param0, float param1, float param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, long param4, boolean param5, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, long param3, int param4, int param5, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, boolean param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, int param5, long __functionAddress);
+    private static native void ncallPV(int param0, boolean param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, int param5, long __functionAddress);
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, float param2, float param3, float param4, float param5, long param6, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, long param5, int param6, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, long param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, boolean param5, int param6, long param7, long __functionAddress);
+    private static native void ncallJV(int param0, int param1, int param2, int param3, int param4, int param5, boolean param6, int param7, long param8, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, float param8, long __functionAddress);
+    private static native void ncallPV(int param0, double param1, double param2, int param3, int param4, double param5, double param6, int param7, int param8, long param9, long __functionAddress);
+    private static native void ncallPV(int param0, float param1, float param2, int param3, int param4, float param5, float param6, int param7, int param8, long param9, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, long param9, long __functionAddress);
+    private static native void ncallJV(long param0, int param1, float param2, float param3, float param4, float param5, float param6, float param7, float param8, float param9, float param10, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, long param10, long __functionAddress);
+    private static native void ncallPV(long param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long __functionAddress);
+    private static native void ncallPV(int param0, int param1, int param2, int param3, int param4, int param5, int param6, int param7, int param8, int param9, int param10, long param11, long __functionAddress);
+    private static native void ncallJPV(long param0, long param1, long __functionAddress);
+    private static native void ncallPJV(long param0, long param1, long __functionAddress);
+    private static native void ncallPPV(long param0, long param1, long __functionAddress);
+    private static native void ncallJJV(int param0, long param1, long param2, long __functionAddress);
+    private static native void ncallPJV(long param0, int param1, long param2, long __functionAddress);
+    private static native void ncallPJV(long param0, long param1, int param2, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, long param2, long __functionAddress);
+    private static native void ncallPPV(long param0, int param1, long param2, long __functionAddress);
+    private static native void ncallPPV(long param0, long param1, int param2, long __functionAddress);
+    private static native void ncallJJV(int param0, int param1, long param2, long param3, long __functionAddress);
+    private static native void ncallJPV(int param0, int param1, long param2, long param3, long __functionAddress);
+    private static native void ncallJPV(int param0, long param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPJV(int param0, long param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPJV(long param0, int param1, long param2, int param3, long __functionAddress);
+    private static native void ncallPJV(long param0, long param1, int param2, int param3, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, long param2, int param3, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, long param2, boolean param3, long __functionAddress);
+    private static native void ncallPPV(long param0, int param1, float param2, long param3, long __functionAddress);
+    private static native void ncallPPV(long param0, int param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPPV(long param0, long param1, int param2, int param3, long __functionAddress);
+    private static native void ncallPJV(long param0, long param1, int param2, int param3, int param4, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, int param2, long param3, int param4, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, long param2, int param3, int param4, long __functionAddress);
+    private static native void ncallPPV(long param0, int param1, int param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, long param4, long param5, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, int param4, int param5, long __functionAddress);
+    private static native void ncallPPV(int param0, long param1, long param2, int param3, int param4, int param5, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, int param4, long param5, long param6, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, long param3, int param4, int param5, int param6, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, int param3, long param4, int param5, int param6, long param7, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, long param7, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, int param2, long param3, int param4, float param5, float param6, int param7, long param8, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, int param6, int param7, long param8, long __functionAddress);
+    private static native void ncallPPV(int param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, int param8, float param9, long __functionAddress);
+    private static native void ncallPJJV(long param0, long param1, long param2, long __functionAddress);
+    private static native void ncallPJPV(long param0, long param1, long param2, long __functionAddress);
+    private static native void ncallPPNV(long param0, long param1, long param2, long __functionAddress);
+    private static native void ncallPPPV(long param0, long param1, long param2, long __functionAddress);
+    private static native void ncallJJJV(int param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPJJV(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native void ncallPJPV(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPPPV(int param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPPPV(long param0, int param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPPPV(long param0, long param1, float param2, long param3, long __functionAddress);
+    private static native void ncallPPPV(long param0, long param1, int param2, long param3, long __functionAddress);
+    private static native void ncallPPPV(long param0, long param1, long param2, int param3, long __functionAddress);
+    private static native void ncallPPPV(long param0, long param1, boolean param2, long param3, long __functionAddress);
+    private static native void ncallJJJV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPJJV(long param0, int param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ncallPJJV(long param0, long param1, long param2, int param3, int param4, long __functionAddress);
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPPPV(int param0, long param1, int param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPPPV(int param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPPPV(int param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ncallPPPV(long param0, int param1, int param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPPPV(long param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPJPV(long param0, int param1, long param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPJPV(long param0, long param1, int param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPPJV(long param0, int param1, long param2, int param3, long param4, int param5, long __functionAddress);
+    private static native void ncallPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native void ncallPPPV(int param0, int param1, long param2, int param3, long param4, long param5, long __functionAddress);
+    private static native void ncallPPPV(int param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPJJV(long param0, int param1, int param2, long param3, long param4, int param5, int param6, long __functionAddress);
+    private static native void ncallPPPV(int param0, int param1, int param2, int param3, long param4, long param5, long param6, long __functionAddress);
+    private static native void ncallPPPV(int param0, int param1, long param2, long param3, int param4, int param5, long param6, long __functionAddress);
+    private static native void ncallPPPV(int param0, int param1, int param2, int param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native void ncallPPPV(long param0, int param1, int param2, int param3, int param4, int param5, long param6, long param7, long __functionAddress);
+    private static native void ncallPPPV(long param0, long param1, int param2, int param3, int param4, int param5, int param6, int param7, long param8, int param9, int param10, int param11, int param12, int param13, int param14, int param15, int param16, int param17, long __functionAddress);
+    private static native void ncallPJJPV(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPJPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPPPNV(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ncallPPPPV(long param0, long param1, long param2, long param3, long __functionAddress);
+    private static native void ncallJJJJV(int param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPJJJV(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ncallPJJPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPPPPV(int param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPPPPV(long param0, long param1, long param2, int param3, long param4, long __functionAddress);
+    private static native void ncallPPPPV(long param0, long param1, long param2, long param3, int param4, long __functionAddress);
+    private static native void ncallJJJJV(int param0, int param1, long param2, long param3, long param4, long param5, long __functionAddress);
+    private static native void ncallPJJPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPJJPV(long param0, long param1, long param2, int param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPJPPV(long param0, long param1, int param2, long param3, int param4, long param5, long __functionAddress);
+    private static native void ncallPPPPV(int param0, long param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native void ncallPPPPV(int param0, long param1, long param2, long param3, long param4, int param5, long __functionAddress);
+    private static native void ncallPPPPV(long param0, int param1, int param2, long param3, long param4, long param5, long __functionAddress);
+    private static native void ncallPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, long __functionAddress);
+    private static native void ncallPPPPV(int param0, int param1, int param2, long param3, long param4, long param5, long param6, long __functionAddress);
+    private static native void ncallPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, int param6, long __functionAddress);
+    private static native void ncallPJJPV(long param0, long param1, int param2, long param3, int param4, int param5, long param6, int param7, long __functionAddress);
+    private static native void ncallPJPPV(long param0, int param1, long param2, int param3, int param4, long param5, int param6, long param7, long __functionAddress);
+    private static native void ncallPPPPV(long param0, int param1, int param2, int param3, int param4, long param5, int param6, long param7, int param8, long param9, long __functionAddress);
+    private static native void ncallPJJJPV(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native void ncallPJJJJV(long param0, long param1, long param2, long param3, long param4, int param5, int param6, long __functionAddress);
+    private static native void ncallPPPPPV(int param0, int param1, long param2, long param3, long param4, long param5, long param6, long __functionAddress);
+    private static native void ncallPJJJJV(long param0, long param1, int param2, int param3, long param4, long param5, long param6, int param7, long __functionAddress);
+    private static native void ncallPJPPPV(long param0, int param1, int param2, long param3, long param4, int param5, long param6, long param7, long __functionAddress);
+    private static native void ncallPPPPPV(long param0, int param1, long param2, int param3, int param4, int param5, long param6, int param7, long param8, int param9, long param10, long __functionAddress);
+    private static native void ncallPPPPPPV(long param0, long param1, long param2, int param3, int param4, long param5, long param6, long param7, long __functionAddress);
+    private static native void ncallPPPPPPPV(int param0, int param1, int param2, long param3, int param4, long param5, long param6, long param7, long param8, long param9, long param10, long __functionAddress);
+    private static native void ncallPPJJJJJJV(long param0, long param1, long param2, long param3, int param4, long param5, long param6, long param7, long param8, long __functionAddress);
+    private static native void ncallPJJJJJJJJJJJV(long param0, long param1, long param2, long param3, long param4, long param5, long param6, long param7, long param8, long param9, long param10, long param11, int param12, int param13, int param14, long __functionAddress);
+    private static native boolean ncallZ(long __functionAddress);
+    private static native boolean ncallZ(int param0, long __functionAddress);
+    private static native boolean ncallZ(boolean param0, long __functionAddress);
+    private static native boolean ncallZ(int param0, int param1, long __functionAddress);
+    private static native boolean ncallZ(int param0, float param1, float param2, long __functionAddress);
+    private static native boolean ncallZ(int param0, int param1, float param2, float param3, long __functionAddress);
+    private static native boolean ncallJZ(long param0, long __functionAddress);
+    private static native boolean ncallPZ(long param0, long __functionAddress);
+    private static native boolean ncallJZ(int param0, long param1, long __functionAddress);
+    private static native boolean ncallPZ(int param0, long param1, long __functionAddress);
+    private static native boolean ncallPZ(long param0, int param1, long __functionAddress);
+    private static native boolean ncallPZ(boolean param0, long param1, long __functionAddress);
+    private static native boolean ncallJZ(int param0, long param1, int param2, long __functionAddress);
+    private static native boolean ncallPZ(int param0, int param1, long param2, long __functionAddress);
+    private static native boolean ncallPZ(int param0, long param1, int param2, long __functionAddress);
+    private static native boolean ncallPZ(int param0, float param1, float param2, long param3, long __functionAddress);
+    private static native boolean ncallPPZ(long param0, long param1, long __functionAddress);
+    private static native boolean ncallJPZ(long param0, long param1, int param2, long __functionAddress);
+    private static native boolean ncallPPZ(int param0, long param1, long param2, long __functionAddress);
+    private static native boolean ncallPPZ(long param0, int param1, long param2, long __functionAddress);
+    private static native boolean ncallPPZ(long param0, long param1, int param2, long __functionAddress);
+    private static native boolean ncallPPZ(int param0, long param1, int param2, long param3, long __functionAddress);
+    private static native boolean ncallPPZ(int param0, int param1, long param2, int param3, long param4, long __functionAddress);
+    private static native boolean ncallJPPZ(long param0, long param1, long param2, long __functionAddress);
+    private static native boolean ncallPPPZ(long param0, long param1, long param2, long __functionAddress);
+    private static native boolean ncallPPPPZ(int param0, int param1, int param2, float param3, long param4, long param5, long param6, long param7, long __functionAddress);
+    private static native boolean ncallPPJPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+    private static native boolean ncallPPPPPZ(long param0, long param1, long param2, long param3, long param4, long __functionAddress);
+
+    // Downcall handles, created lazily
+
+    private static final class invokePB__BJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BYTE, JAVA_BYTE, JAVA_LONG); }
+    private static final class invokeD__J { static final MethodHandle HANDLE = downcall(false, JAVA_DOUBLE); }
+    private static final class invokeD__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_DOUBLE, JAVA_INT); }
+    private static final class invokePD__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_DOUBLE, JAVA_LONG); }
+    private static final class invokePD__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_DOUBLE, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPD__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG); }
+    private static final class invokeF__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_INT); }
+    private static final class invokePF__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG); }
+    private static final class invokePF__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePF__JFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class invokePPF__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPF__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPF__JFJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_FLOAT, JAVA_LONG, JAVA_INT); }
+    private static final class invokeI__J { static final MethodHandle HANDLE = downcall(false, JAVA_INT); }
+    private static final class invokeI__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT); }
+    private static final class invokeI__ZJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokeI__IIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeI__ISJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_SHORT); }
+    private static final class invokeI__IIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePI__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG); }
+    private static final class invokePI__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePI__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePI__JSJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePI__SJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePI__JIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePI__SJBJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_SHORT, JAVA_LONG, JAVA_BYTE); }
+    private static final class invokePI__JIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePJI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePNI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, C_LONG); }
+    private static final class invokePPI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPI__IJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPI__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPI__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPI__JJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePPI__JIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPI__JIIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPI__IJIJIZJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePPI__JIIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPI__JIIIIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPJI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPI__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPI__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPI__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPI__JJIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPI__JJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPI__JJIJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPI__JIIIJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPI__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePNNPI__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, C_LONG, JAVA_INT, C_LONG, JAVA_LONG); }
+    private static final class invokePPPPI__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPI__JJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPI__JJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPI__JJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPI__JJJIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPI__JIIJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPPI__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJJJPI__JJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPI__JIJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPI__JJJIJIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPPI__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPI__JJJJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePNNPPPI__JJJIIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, C_LONG, C_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPPI__JJJIIJJIJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPPPPPI__JIIJJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokeJ__J { static final MethodHandle HANDLE = downcall(false, JAVA_LONG); }
+    private static final class invokePJ__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJ__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePJ__JFIFIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_FLOAT, JAVA_INT, JAVA_FLOAT, JAVA_INT); }
+    private static final class invokePPJ__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPJ__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePN__JJ { static final MethodHandle HANDLE = downcall(false, C_LONG, JAVA_LONG); }
+    private static final class invokePN__JIJ { static final MethodHandle HANDLE = downcall(false, C_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePNPN__JJJIJ { static final MethodHandle HANDLE = downcall(false, C_LONG, JAVA_LONG, C_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePNPNPN__JJIIIIIIIJJJJ { static final MethodHandle HANDLE = downcall(false, C_LONG, JAVA_LONG, C_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, C_LONG, JAVA_LONG); }
+    private static final class invokeP__J { static final MethodHandle HANDLE = downcall(false, JAVA_LONG); }
+    private static final class invokeP__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT); }
+    private static final class invokeP__SJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokeP__ZJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class invokeP__IIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePP__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePP__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePP__JBJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_BYTE); }
+    private static final class invokePP__JDJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_DOUBLE); }
+    private static final class invokePP__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePP__SJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePP__IIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePP__ISJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePP__JIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePP__JSZJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_BOOLEAN); }
+    private static final class invokePP__IIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePP__JIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeJP__SSSBIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_INT, JAVA_LONG); }
+    private static final class invokePP__JIBIZZJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_BYTE, JAVA_INT, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class invokePP__JIIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePJP__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPP__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJP__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePJP__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPP__IJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPP__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPP__JJBJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BYTE); }
+    private static final class invokePPP__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPP__JIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPP__JIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPP__JJIBJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_BYTE); }
+    private static final class invokePPP__JJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPP__JJZZJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class invokePPP__JZZJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class invokePPP__IIIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPP__JSSSSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePPP__IIIIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePJJP__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPJP__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPP__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPP__IJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPP__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPP__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPP__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPP__IIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPP__JIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPP__JJIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPP__JJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPP__JJJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokeJPPP__IIIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPJP__JJIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPP__JIJJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPP__JJIIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPP__IIIJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPP__JJIIJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPJPP__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPP__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPJP__IJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPP__JIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPP__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPP__JJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPP__JJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePJPPP__JIIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJPPP__JJIJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPJP__JJJJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPP__JJIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPP__JJJIJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPP__JJJJIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPP__IIIJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePJPJPP__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePNNNPP__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, C_LONG, C_LONG, C_LONG, JAVA_LONG); }
+    private static final class invokePPPPPP__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPP__JJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPP__JJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPP__JJJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPJPPP__JJJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPP__JJJJJIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePPJJPPP__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPP__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPP__JJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPP__JJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPP__JJJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPPP__JJJJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPPPP__JJJJIJIJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPPPP__JJJJJIJIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPPPPP__JJJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPPP__JJJJJIJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPJJPPP__JJJJIJIJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPJJPP__JJJJJIJIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPJPPP__JJJJJIJIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPJPPP__JIJJJJIIJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPJPPP__JIJJJJIIJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPPPP__JJJJJJJIJIIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPPPPPP__JIJJJIJJIJJIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePPPPPJJJPP__JJJJJIJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPPPPPP__JJJJIJJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPPPPPPPP__JJJJJJJIJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPPJPPPP__JJJJJIJIIJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPPPPPP__JJJJJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPPPPPP__JJJJJJJIJIJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPPJPPPPPP__JJJJJIJIIJJIIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPJJPPPPPPP__JJJJJIJIJIJJIJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokeS__J { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT); }
+    private static final class invokeS__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_INT); }
+    private static final class invokeS__ISJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_INT, JAVA_SHORT); }
+    private static final class invokeS__SBJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE); }
+    private static final class invokeS__SZJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_BOOLEAN); }
+    private static final class invokeS__SSZJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BOOLEAN); }
+    private static final class invokeS__SSSSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokePS__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePS__JSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokeJS__IIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePS__BJZJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_BYTE, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class invokePS__IJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_INT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePS__JISJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_INT, JAVA_SHORT); }
+    private static final class invokePS__SJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokeJS__SSIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_LONG); }
+    private static final class invokeJS__IZSIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN, JAVA_SHORT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePS__JSSIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_INT); }
+    private static final class invokePS__JSSSSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokePPS__JJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokeJPS__SZSIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_BOOLEAN, JAVA_SHORT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokeJPS__SSSZIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokeJPS__SSZSIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BOOLEAN, JAVA_SHORT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJPS__JJBJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_BYTE, JAVA_LONG); }
+    private static final class invokePPPS__JJJSFJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_FLOAT); }
+    private static final class invokeV__J { static final MethodHandle HANDLE = downcall(false, null); }
+    private static final class invokeV__DJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_DOUBLE); }
+    private static final class invokeV__FJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT); }
+    private static final class invokeV__IJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT); }
+    private static final class invokeV__SJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT); }
+    private static final class invokeV__BIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_INT); }
+    private static final class invokeV__BZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_BOOLEAN); }
+    private static final class invokeV__IFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT); }
+    private static final class invokeV__IIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__ISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_SHORT); }
+    private static final class invokeV__SIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_INT); }
+    private static final class invokeV__SSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokeV__SZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_BOOLEAN); }
+    private static final class invokeV__BSIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_SHORT, JAVA_INT); }
+    private static final class invokeV__IIDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_DOUBLE); }
+    private static final class invokeV__IIFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class invokeV__IIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__SIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__BSIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_SHORT, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__BSSIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_INT); }
+    private static final class invokeV__IFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class invokeV__IIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__SSIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokeV__SSSIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_INT); }
+    private static final class invokeV__BSBIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_SHORT, JAVA_BYTE, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__IIDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class invokeV__IIFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class invokeV__IIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__SSIFBJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_FLOAT, JAVA_BYTE); }
+    private static final class invokeV__SSIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeV__SSSIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokeV__SSSSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokeV__SSSSSIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokeV__SSFBBBBBBBBBJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_FLOAT, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE); }
+    private static final class invokeV__SSBSSSSBSSSSSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokePV__JJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG); }
+    private static final class invokeJV__JIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT); }
+    private static final class invokePV__BJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_LONG); }
+    private static final class invokePV__IJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG); }
+    private static final class invokePV__JFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_FLOAT); }
+    private static final class invokePV__JIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT); }
+    private static final class invokePV__JSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePV__JZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class invokePV__SJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokeJV__IIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePV__IIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePV__JDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class invokePV__JFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class invokePV__JIDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_DOUBLE); }
+    private static final class invokePV__JIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_SHORT); }
+    private static final class invokePV__JSZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_BOOLEAN); }
+    private static final class invokePV__SIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePV__SJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePV__SJSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePV__SSJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePV__BJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JBSIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BYTE, JAVA_SHORT, JAVA_INT); }
+    private static final class invokePV__JIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JSIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__SSBJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_LONG); }
+    private static final class invokePV__IIJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JBSSIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_INT); }
+    private static final class invokePV__JIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JSSIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePV__JBSBIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BYTE, JAVA_SHORT, JAVA_BYTE, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JBSIISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BYTE, JAVA_SHORT, JAVA_INT, JAVA_INT, JAVA_SHORT); }
+    private static final class invokePV__JIIIIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePV__JSISSBJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_INT, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE); }
+    private static final class invokePV__JSSIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePV__JSSSIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePV__JSSSSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokePV__SSSSJSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePV__JSSSSSIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePV__JSSSZZSIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_SHORT, JAVA_INT); }
+    private static final class invokePV__SBSSSSSSJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG); }
+    private static final class invokePV__SSBSSSSJSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePV__SSBBSSSSJSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePV__JSSBSSSSBSSSSSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class invokePJV__JJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPV__JJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJV__JIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePJV__JJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPV__IJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPV__JIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPV__JJFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_FLOAT); }
+    private static final class invokePPV__JJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPV__JJZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class invokePPV__SJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPV__JIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPV__JIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPV__JJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPV__JSJSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePPV__JFJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_FLOAT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class invokePPV__SSBJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_BYTE, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPV__JBJIISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BYTE, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_SHORT); }
+    private static final class invokePPV__JJIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokePNPV__JJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, C_LONG, JAVA_LONG); }
+    private static final class invokePPPV__JJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJJV__JIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJPV__JJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPV__IJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPV__JIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPV__JJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPV__JJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokeJJJV__IIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPV__IIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPV__JIJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPV__JJIJSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_SHORT); }
+    private static final class invokePPPV__JJJZZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class invokePPPV__JJSIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPPV__JJJIZZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class invokePPPV__JZIJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPV__JJIIIJIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePNPPV__JJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, C_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPV__JJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPV__JIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPV__JJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPV__JJSJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPV__JJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPV__JIJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPV__IJIJJJIJIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class invokePPPPPPV__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPPPPV__JJJJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokeZ__J { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN); }
+    private static final class invokeZ__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class invokePZ__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class invokePZ__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_INT); }
+    private static final class invokePZ__JIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class invokeJZ__SZSIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_SHORT, JAVA_BOOLEAN, JAVA_SHORT, JAVA_INT, JAVA_LONG); }
+    private static final class invokePPZ__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPZ__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePJPZ__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPZ__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPZ__JJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPZ__JJJZIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class invokePPPPZ__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class invokePPPPZ__JJJBJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BYTE, JAVA_LONG); }
+    private static final class invokePPPPPZ__JJJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class invokePPPPPZ__JJJJJZIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class callF__J { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT); }
+    private static final class callF__IIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPF__IIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPF__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callI__J { static final MethodHandle HANDLE = downcall(false, JAVA_INT); }
+    private static final class callI__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT); }
+    private static final class callI__IFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callI__IIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callI__IIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJI__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG); }
+    private static final class callPI__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG); }
+    private static final class callJI__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callJI__JFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_FLOAT); }
+    private static final class callJI__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPI__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPI__JFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_FLOAT); }
+    private static final class callPI__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPI__JZJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class callJI__JFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callJI__JIZJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callPI__IIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPI__IJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPI__JFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callPI__JIFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_FLOAT); }
+    private static final class callPI__JIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callJI__JFFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callPI__IIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPI__IJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPI__JIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPI__IIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPI__JIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPI__IIIFFJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_LONG); }
+    private static final class callPI__IIIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPI__IJIIFIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_INT); }
+    private static final class callPI__JIIIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPI__IIJIIIIFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callJJI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPI__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJJI__IJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPI__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPI__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJI__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJI__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPI__IJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPI__JBJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_BYTE, JAVA_LONG); }
+    private static final class callPPI__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__JJFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_FLOAT); }
+    private static final class callPPI__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPI__JSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callJPI__JIJFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_FLOAT); }
+    private static final class callJPI__JIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callJPI__JJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPJI__JIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__IIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPI__IJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPI__JIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__JIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPI__JJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callJPI__JIIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callJPI__JJIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPPI__IIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPI__IIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__JIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__JIIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPI__JJIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJJI__JFFFFJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_LONG); }
+    private static final class callPPI__IIIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__JJIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPPI__JIIIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__JIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPI__IIJJIIIIFJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callPPI__JIIIIIIJIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJJPI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPI__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callJJPI__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callJPJI__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPPI__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPI__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPPI__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPI__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPI__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJI__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJI__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJI__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPNI__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, C_LONG); }
+    private static final class callPPPI__IJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPI__JBJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_BYTE, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPI__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPI__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPI__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPI__JSJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPJI__JIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPPI__JIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPPI__JIJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callJPPI__JJIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJI__JIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPI__IIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPI__JIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPI__JJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callJPJI__JIFJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_FLOAT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPPI__JIJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPI__JIIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPI__JJIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJI__IIJIJZJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callPPPI__JJIIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPI__JIIIIIIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPPI__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJI__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPI__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPNPI__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, C_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPPI__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPI__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JJBJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_BYTE, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPI__JJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPPI__JJSJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPPI__JIJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPPI__JJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JIIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JIJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__JIJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPJI__JIIJIJZJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callPPPPI__JIIIIIIIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPI__IJJIIIIIIIIIIIIIIIIIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPPI__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJPI__JJJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJPPPI__JJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JIJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JJBJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_BYTE, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JJJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPPPI__JJSJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callJJPPPI__JJIJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJPPI__JIJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJPPI__JJIJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__IIJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPI__JJJJJIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callJPPPPI__IIJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPJI__JJIIJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPPPI__JIJIJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJJPI__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPI__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPPPI__JIJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPJPPI__JIJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPI__IIJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPI__JIJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPI__JJIJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPI__JJJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPI__JJJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPI__JIJJIJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPI__JJIJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPPI__JJJJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPPI__JJJJIJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPPPPPPPPI__JJJJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPPPI__JJIJJJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPPPPPPI__JJJJJJJJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPPPPPPI__JJIJJJJJJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJ__J { static final MethodHandle HANDLE = downcall(false, JAVA_LONG); }
+    private static final class callJ__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT); }
+    private static final class callJ__IIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callJ__IIZIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_INT); }
+    private static final class callJJ__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJ__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJ__IIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJ__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJ__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPN__JJ { static final MethodHandle HANDLE = downcall(false, C_LONG, JAVA_LONG); }
+    private static final class callP__J { static final MethodHandle HANDLE = downcall(false, JAVA_LONG); }
+    private static final class callP__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT); }
+    private static final class callP__IIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callP__IFFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callPP__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG); }
+    private static final class callPP__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPP__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPP__IJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPP__JIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPNP__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, C_LONG); }
+    private static final class callPPP__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPP__IJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPP__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPP__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPP__IJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPP__IIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPP__JIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPP__JJIIIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPPNP__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, C_LONG); }
+    private static final class callPPPP__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPP__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJPP__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPP__JIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPP__JJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPP__JJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPP__JJIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPP__JJIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPP__JJIIIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJPP__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPNPP__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, C_LONG, JAVA_LONG); }
+    private static final class callPPPPP__JJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPP__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPP__JJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPP__JIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPP__JJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPP__JJJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPP__JJJJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPPP__JJIIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPPP__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPP__JIJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPPPP__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPJPPP__JJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPP__JIJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPP__JIJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPP__IJJIIIIJJJIJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPPPPPP__JJJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJPPPPPP__JJIJJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPPPPPPPP__JJJJJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJPPPPPPPP__JJIJJJJJIJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callS__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_INT); }
+    private static final class callPS__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPS__JSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPS__SJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPS__SJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPPS__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPS__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPS__JJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPPS__JSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPS__SJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJS__JJSSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callPPS__JIJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPS__JSSJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPS__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPS__JJSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPPS__JIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPS__JSJSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPPS__JSSJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPS__SJSSJSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPPPS__JSJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPS__JJIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPS__JJSJSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPPPS__JSSJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPS__JJSJSJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPPPPS__JSSJSJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPS__JJSJSJSSSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callPPPPS__JSJSJSJSSSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callPPPPPS__JSJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPS__JJJSJSJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPPPPPS__JSJSJJSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPPPPS__SJSJJJSJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG); }
+    private static final class callPPPPPS__JJSJSJSJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPPPPPS__JSSSJSSJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPS__JSSSSJSJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPS__JSJSJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPS__JJSJSJSJSJSJSJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT); }
+    private static final class callPPPPPPPPPS__JSJSJJJJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_SHORT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callV__J { static final MethodHandle HANDLE = downcall(false, null); }
+    private static final class callV__BJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE); }
+    private static final class callV__DJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_DOUBLE); }
+    private static final class callV__FJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT); }
+    private static final class callV__IJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT); }
+    private static final class callV__SJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT); }
+    private static final class callV__ZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BOOLEAN); }
+    private static final class callV__DDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__FFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__FZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT, JAVA_BOOLEAN); }
+    private static final class callV__IDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE); }
+    private static final class callV__IFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT); }
+    private static final class callV__IIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT); }
+    private static final class callV__ISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_SHORT); }
+    private static final class callV__IZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__SSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callV__BBBJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE); }
+    private static final class callV__DDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__FFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_DOUBLE); }
+    private static final class callV__IIFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callV__IIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_SHORT); }
+    private static final class callV__IIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__ISSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callV__SSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callV__BBBBJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE); }
+    private static final class callV__DDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__FFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IIFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIFIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_INT); }
+    private static final class callV__IIIDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE); }
+    private static final class callV__IIIFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callV__IIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__IIZIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class callV__ISSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callV__SSSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callV__ZZZZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class callV__IBBBBJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE, JAVA_BYTE); }
+    private static final class callV__IDDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IIFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIIFIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_INT); }
+    private static final class callV__IIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIZIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class callV__ISSSSJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT, JAVA_SHORT); }
+    private static final class callV__IZZZZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class callV__DDDDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__FFFFFZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_BOOLEAN); }
+    private static final class callV__IDDIDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IFFIFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIDDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IIFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIIIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__IIIIZIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class callV__IDDDDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IIIDDDDJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE); }
+    private static final class callV__IIIFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIIIIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__IIIZIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__FFFFFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIIFFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIIIIIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__IIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIIIIIIZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN); }
+    private static final class callV__IIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIFFFFFFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callV__IIIIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIIIIIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callV__IIIIIIIIIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJV__JJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG); }
+    private static final class callPV__JJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG); }
+    private static final class callJV__IJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG); }
+    private static final class callJV__JIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT); }
+    private static final class callPV__IJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__JFJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_FLOAT); }
+    private static final class callPV__JIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT); }
+    private static final class callJV__IIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPV__JFFJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callPV__JIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPV__JISJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_SHORT); }
+    private static final class callJV__IJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callNV__JIIIJ { static final MethodHandle HANDLE = downcall(false, null, C_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IFJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_LONG, JAVA_INT); }
+    private static final class callPV__IIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPV__IIZJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callPV__IJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPV__JFFFJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callPV__JIIIJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPV__IIIJZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class callPV__IIIZJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callPV__IIJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IZIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__JIIIIJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJV__IIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IDDIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IFFIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIJZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class callPV__IIIJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IIIZIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IZIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__JIIIIIJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJV__IIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIFFFFJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_LONG); }
+    private static final class callPV__IIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPV__IIIJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IIJIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__JIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callJV__IIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callJV__IIIIIZIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIIZIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG); }
+    private static final class callJV__IIIIIIZIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIJIIIIIFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callPV__IDDIIDDIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IFFIIFFIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__IIIIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callJV__JIFFFFFFFFFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callPV__IIIIIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPV__JIIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPV__IIIIIIIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callJPV__JJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJV__JJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__JJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG); }
+    private static final class callJJV__IJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJV__JIJJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJV__JJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPV__IJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__JIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__JJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callJJV__IIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPV__IIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPV__IJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJV__IJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJV__JIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPJV__JJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPPV__IIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__IJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPV__IJJZJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN); }
+    private static final class callPPV__JIFJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_FLOAT, JAVA_LONG); }
+    private static final class callPPV__JIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__JJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPJV__JJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPPV__IIIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__IIJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPV__IJIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPV__IJJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPPV__JIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIIIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__IIJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPPV__IJJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPPV__IIIIIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__IIIJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPPV__IIIIIIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPV__IIIIJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIIJIFFIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJIIIIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPV__IIJIIIJIIFJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_FLOAT); }
+    private static final class callPJJV__JJJJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPV__JJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPNV__JJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, C_LONG); }
+    private static final class callPPPV__JJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callJJJV__IJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJV__JJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPV__JJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPV__IJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__JIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__JJFJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_FLOAT, JAVA_LONG); }
+    private static final class callPPPV__JJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPV__JJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPV__JJZJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callJJJV__IIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJV__JIJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJJV__JJJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPPPV__IIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__IJIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__IJJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPV__IJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPV__JIIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__JIJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJPV__JIJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPJPV__JJIIIJJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPJV__JIJIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPV__IIIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__IIJIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__IJIJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJJV__JIIJJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPPPV__IIIIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__IIJJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPV__IIIIJIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__JIIIIIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPV__JJIIIIIIJIIIIIIIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callPJJPV__JJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJPPV__JJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPNV__JJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, C_LONG); }
+    private static final class callPPPPV__JJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callJJJJV__IJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJV__JJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJJPV__JJJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPV__IJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPV__JJJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPV__JJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callJJJJV__IIJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJPV__JJIJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJJPV__JJJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPJPPV__JJIJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPV__IJIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPV__IJJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPPPV__JIIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJPV__JJIJIIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPV__IIIJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPV__IIJJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJJPV__JJIJIIJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPPV__JIJIIJIJJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPV__JIIIIJIJIJJ { static final MethodHandle HANDLE = downcall(true, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPJJJPV__JJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJJV__JJJJJIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT); }
+    private static final class callPPPPPV__IIJJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJJV__JJIIJJJIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPJPPPV__JIIJJIJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPV__JIJIIIJIJIJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPPPPPV__JJJIIJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPPPV__IIIJIJJJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJJJJJJV__JJJJIJJJJJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPJJJJJJJJJJJV__JJJJJJJJJJJJIIIJ { static final MethodHandle HANDLE = downcall(false, null, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_INT, JAVA_INT); }
+    private static final class callZ__J { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN); }
+    private static final class callZ__IJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT); }
+    private static final class callZ__ZJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_BOOLEAN); }
+    private static final class callZ__IIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_INT); }
+    private static final class callZ__IFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callZ__IIFFJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT); }
+    private static final class callJZ__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callPZ__JJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callJZ__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG); }
+    private static final class callPZ__IJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG); }
+    private static final class callPZ__JIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_INT); }
+    private static final class callPZ__ZJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_BOOLEAN, JAVA_LONG); }
+    private static final class callJZ__IJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPZ__IIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_LONG); }
+    private static final class callPZ__IJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG, JAVA_INT); }
+    private static final class callPZ__IFFJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_FLOAT, JAVA_FLOAT, JAVA_LONG); }
+    private static final class callPPZ__JJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG); }
+    private static final class callJPZ__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPZ__IJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPZ__JIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPZ__JJIJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_INT); }
+    private static final class callPPZ__IJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callPPZ__IIJIJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_LONG, JAVA_INT, JAVA_LONG); }
+    private static final class callJPPZ__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPZ__JJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPZ__IIIFJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_FLOAT, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPJPPZ__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+    private static final class callPPPPPZ__JJJJJJ { static final MethodHandle HANDLE = downcall(false, JAVA_BOOLEAN, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG); }
+
+}
@@ -18,7 +18,10 @@ static jmethodID
     javaCallbackN,
     javaCallbackF,
     javaCallbackD,
-    javaCallbackP;
+    javaCallbackP,
+    javaCallbackP_PP,
+    javaCallbackV_PI,
+    javaCallbackI_PP;
 
 typedef struct LWJGLCallback {
     jweak reference;
@@ -89,6 +92,61 @@ DEFINE_CB_HANDLER(F, jfloat,   'f', Float)
 DEFINE_CB_HANDLER(D, jdouble,  'd', Double)
 DEFINE_CB_HANDLER(P, intptr_t, 'p', Long)
 
+// Specialized handlers for common signatures. The arguments are decoded here, instead of with one JNI upcall per argument in Java code.
+// Arguments are read into locals first; the evaluation order of function arguments is unspecified.
+
+static char cbHandlerP_PP(DCCallback *cb, DCArgs *args, DCValue *result, void *userdata) {
+    jboolean async;
+    JNIEnv* env = getEnv(&async);
+
+    jlong a = (jlong)(intptr_t)dcbArgPointer(args);
+    jlong b = (jlong)(intptr_t)dcbArgPointer(args);
+
+    UNUSED_PARAM(cb)
+
+    *(intptr_t*)result = (intptr_t)(*env)->CallLongMethod(env, (jobject)userdata, javaCallbackP_PP, a, b);
+
+    if ( (*env)->ExceptionCheck(env) && async )
+        asyncCallbackException(env);
+
+    return 'p';
+}
+
+static char cbHandlerI_PP(DCCallback *cb, DCArgs *args, DCValue *result, void *userdata) {
+    jboolean async;
+    JNIEnv* env = getEnv(&async);
+
+    jlong a = (jlong)(intptr_t)dcbArgPointer(args);
+    jlong b = (jlong)(intptr_t)dcbArgPointer(args);
+
+    UNUSED_PARAM(cb)
+
+    *(jint*)result = (*env)->CallIntMethod(env, (jobject)userdata, javaCallbackI_PP, a, b);
+
+    if ( (*env)->ExceptionCheck(env) && async )
+        asyncCallbackException(env);
+
+    return 'i';
+}
+
+static char cbHandlerV_PI(DCCallback *cb, DCArgs *args, DCValue *result, void *userdata) {
+    jboolean async;
+    JNIEnv* env = getEnv(&async);
+
+    jlong a = (jlong)(intptr_t)dcbArgPointer(args);
+    jint  b = (jint)dcbArgInt(args);
+
+    UNUSED_PARAM(cb)
+    UNUSED_PARAM(result)
+
+    (*env)->CallVoidMethod(env, (jobject)userdata, javaCallbackV_PI, a, b);
+
+    if ( (*env)->ExceptionCheck(env) && async )
+        asyncCallbackException(env);
+
+    return 'v';
+}
+
 EXTERN_C_ENTER
 
 #define SETUP_CALLBACK(Index, Type) \
@@ -110,6 +168,9 @@ JNIEXPORT void JNICALL Java_org_lwjgl_system_Callback_getNativeCallbacks(JNIEnv
     SETUP_CALLBACK(7, F)
     SETUP_CALLBACK(8, D)
     SETUP_CALLBACK(9, P)
+    SETUP_CALLBACK(10, P_PP)
+    SETUP_CALLBACK(11, V_PI)
+    SETUP_CALLBACK(12, I_PP)
 }
 
 EXTERN_C_EXIT
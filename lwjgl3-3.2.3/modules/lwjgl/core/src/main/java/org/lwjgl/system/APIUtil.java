@@ -500,6 +500,32 @@ public final class APIUtil {
         return pointers.address;
     }
 
+    /**
+     * Encodes the specified strings with the specified {@link TextCache} and stores an array of pointers to the encoded data on the specified
+     * {@link MemoryStack}. The encoded strings include null-termination.
+     *
+     * <p>The encoded strings are owned by the cache and must not be freed. The number of strings must not exceed the cache capacity.</p>
+     *
+     * @param stack   the stack to use
+     * @param cache   the cache to use
+     * @param strings the strings to encode
+     *
+     * @return the pointer array address on the stack
+     */
+    public static long apiArray(MemoryStack stack, TextCache cache, String... strings) {
+        if (DEBUG && cache.getCapacity() < strings.length) {
+            throw new IllegalArgumentException("Too many strings for the cache capacity.");
+        }
+
+        PointerBuffer pointers = stack.mallocPointer(strings.length);
+
+        for (String s : strings) {
+            pointers.put(cache.nencode(s));
+        }
+
+        return pointers.address;
+    }
+
     /**
      * Frees the specified array of pointers.
      *
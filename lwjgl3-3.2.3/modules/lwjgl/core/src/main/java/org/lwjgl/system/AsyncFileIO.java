@@ -0,0 +1,410 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Executes file reads and writes that target native memory asynchronously, on a bounded pool of I/O threads.
+ *
+ * <p>Requests transfer data between a file and an arbitrary native address, for example memory allocated with {@link MemoryUtil#memAlloc}, a mapped
+ * buffer or memory owned by a native library. The memory must remain valid until the corresponding future completes. The data is transferred directly
+ * between the file and the native memory, without intermediate copies on the Java heap.</p>
+ *
+ * <p>Requests submitted together with {@link #submit(Collection)} form a batch. Each file is opened once per batch and shared by all requests in the batch
+ * that target it, then closed when the last of those requests completes. Requests in a batch execute concurrently, in no particular order.</p>
+ *
+ * <p>The number of requests waiting for an I/O thread is bounded. When the queue is full, submitting a request blocks the submitting thread until space
+ * becomes available. If the submitting thread is one of the I/O threads of the same instance (e.g. a dependent action of a returned future), the request
+ * is executed synchronously instead, to avoid deadlocks. If the submitting thread is interrupted while waiting, the request completes exceptionally with
+ * a {@link RejectedExecutionException} and the interrupt status is preserved.</p>
+ *
+ * <p>Instances of this class are thread-safe. {@link #close} stops accepting new requests and waits for pending requests to complete.</p>
+ */
+public final class AsyncFileIO implements AutoCloseable {
+
+    /** The maximum number of bytes transferred by a single channel operation. */
+    private static final int MAX_TRANSFER_SIZE = 1 << 30;
+
+    /** A file read or write request. */
+    public static final class Request {
+
+        final Path path;
+        final long position;
+        final long address;
+        final long size;
+        final boolean write;
+
+        private Request(Path path, long position, long address, long size, boolean write) {
+            if (position < 0L || size < 0L) {
+                throw new IllegalArgumentException("Invalid position or size: " + position + ", " + size);
+            }
+            if (address == NULL && size != 0L) {
+                throw new NullPointerException();
+            }
+
+            this.path = path;
+            this.position = position;
+            this.address = address;
+            this.size = size;
+            this.write = write;
+        }
+
+        /**
+         * Returns a request that reads up to {@code size} bytes from the specified file to native memory.
+         *
+         * <p>Less bytes are read if the end of the file is reached before {@code size} bytes have been read.</p>
+         *
+         * @param path     the file to read
+         * @param position the file position at which the transfer begins
+         * @param address  the native memory address to read to
+         * @param size     the number of bytes to read
+         */
+        public static Request read(Path path, long position, long address, long size) {
+            return new Request(path, position, address, size, false);
+        }
+
+        /**
+         * Returns a request that writes {@code size} bytes from native memory to the specified file.
+         *
+         * <p>The file is created if it does not exist. Existing files are not truncated.</p>
+         *
+         * @param path     the file to write
+         * @param position the file position at which the transfer begins
+         * @param address  the native memory address to write from
+         * @param size     the number of bytes to write
+         */
+        public static Request write(Path path, long position, long address, long size) {
+            return new Request(path, position, address, size, true);
+        }
+
+        /** Returns the file targeted by this request. */
+        public Path path() { return path; }
+
+        /** Returns the file position at which the transfer begins. */
+        public long position() { return position; }
+
+        /** Returns the native memory address. */
+        public long address() { return address; }
+
+        /** Returns the number of bytes to transfer. */
+        public long size() { return size; }
+
+        /** Returns true if this is a write request. */
+        public boolean isWrite() { return write; }
+
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    /** The default number of pending requests per I/O thread. */
+    private static final int DEFAULT_QUEUE_CAPACITY_PER_THREAD = 64;
+
+    /** Creates an {@code AsyncFileIO} instance with as many I/O threads as available processors. */
+    public AsyncFileIO() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an {@code AsyncFileIO} instance, with a queue capacity of 64 pending requests per I/O thread.
+     *
+     * @param threads the number of I/O threads
+     */
+    public AsyncFileIO(int threads) {
+        this(threads, threads * DEFAULT_QUEUE_CAPACITY_PER_THREAD);
+    }
+
+    /**
+     * Creates an {@code AsyncFileIO} instance.
+     *
+     * @param threads       the number of I/O threads
+     * @param queueCapacity the maximum number of requests that may wait for an I/O thread
+     */
+    public AsyncFileIO(int threads, int queueCapacity) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid queue capacity: " + queueCapacity);
+        }
+
+        AtomicInteger threadID = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread t = new IOThread(this, r, "LWJGL AsyncFileIO-" + threadID.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            this::waitForCapacity
+        );
+    }
+
+    /**
+     * Submits a single request.
+     *
+     * @param request the request to submit
+     *
+     * @return a future that completes with the number of bytes transferred
+     */
+    public CompletableFuture<Long> submit(Request request) {
+        return submit(Collections.singletonList(request)).get(0);
+    }
+
+    /**
+     * Submits a batch of requests.
+     *
+     * @param requests the requests to submit
+     *
+     * @return the futures of the submitted requests, in the same order. Each future completes with the number of bytes transferred by the corresponding
+     * request.
+     */
+    public List<CompletableFuture<Long>> submit(Collection<Request> requests) {
+        Map<Path, SharedChannel> reads  = new HashMap<>();
+        Map<Path, SharedChannel> writes = new HashMap<>();
+        for (Request request : requests) {
+            (request.write ? writes : reads).computeIfAbsent(request.path, SharedChannel::new).references++;
+        }
+
+        List<CompletableFuture<Long>> futures = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            SharedChannel channel = (request.write ? writes : reads).get(request.path);
+
+            CompletableFuture<Long> future = new CompletableFuture<>();
+            execute(future, channel::release, () -> future.complete(transfer(channel.get(request.write), request)));
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    /**
+     * Reads the whole file at the specified path to a new buffer, allocated with {@link MemoryUtil#memAlloc}.
+     *
+     * <p>The returned buffer must be explicitly freed with {@link MemoryUtil#memFree}.</p>
+     *
+     * @param path the file to read
+     *
+     * @return a future that completes with the file contents
+     */
+    public CompletableFuture<ByteBuffer> read(Path path) {
+        CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+        execute(future, null, () -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (Integer.MAX_VALUE < size) {
+                    throw new IOException("The file is too large for a single ByteBuffer: " + path);
+                }
+
+                ByteBuffer buffer = memAlloc((int)size);
+                try {
+                    long bytes = transfer(channel, Request.read(path, 0L, memAddress(buffer), size));
+                    buffer.limit((int)bytes);
+                } catch (Throwable t) {
+                    memFree(buffer);
+                    throw t;
+                }
+                future.complete(buffer);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Reads the files at the specified paths to new buffers, allocated with {@link MemoryUtil#memAlloc}.
+     *
+     * <p>The returned buffers must be explicitly freed with {@link MemoryUtil#memFree}.</p>
+     *
+     * @param paths the files to read
+     *
+     * @return the futures of the read requests, in the same order
+     */
+    public List<CompletableFuture<ByteBuffer>> read(Collection<Path> paths) {
+        List<CompletableFuture<ByteBuffer>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            futures.add(read(path));
+        }
+        return futures;
+    }
+
+    /** Returns the number of requests that have been submitted, but have not started executing yet. */
+    public int getPendingCount() {
+        return executor.getQueue().size();
+    }
+
+    /** Returns the maximum number of requests that may wait for an I/O thread. */
+    public int getQueueCapacity() {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * Stops accepting new requests and waits for all submitted requests to complete.
+     *
+     * <p>Requests submitted after this method has been called complete exceptionally with a {@link RejectedExecutionException}.</p>
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOTask {
+        void run() throws IOException;
+    }
+
+    private void execute(CompletableFuture<?> future, @Nullable Runnable cleanup, IOTask task) {
+        Runnable runnable = () -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                if (cleanup != null) {
+                    cleanup.run();
+                }
+            }
+        };
+
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+            if (cleanup != null) {
+                cleanup.run();
+            }
+        }
+    }
+
+    /** An I/O thread, used to detect submissions from the I/O threads of the same instance. */
+    private static final class IOThread extends Thread {
+
+        final AsyncFileIO owner;
+
+        IOThread(AsyncFileIO owner, Runnable target, String name) {
+            super(target, name);
+            this.owner = owner;
+        }
+
+    }
+
+    /** The rejection policy of the executor: blocks until the queue has space available, or runs the task directly on I/O threads. */
+    private void waitForCapacity(Runnable runnable, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("AsyncFileIO has been closed");
+        }
+
+        Thread current = Thread.currentThread();
+        if (current instanceof IOThread && ((IOThread)current).owner == this) {
+            runnable.run();
+            return;
+        }
+
+        try {
+            executor.getQueue().put(runnable);
+        } catch (InterruptedException e) {
+            current.interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue capacity", e);
+        }
+
+        // close() may have been called while waiting and the I/O threads may have already exited
+        if (executor.isShutdown() && executor.remove(runnable)) {
+            throw new RejectedExecutionException("AsyncFileIO has been closed");
+        }
+    }
+
+    private static long transfer(FileChannel channel, Request request) throws IOException {
+        long transferred = 0L;
+        while (transferred < request.size) {
+            ByteBuffer buffer = memByteBuffer(request.address + transferred, (int)Math.min(request.size - transferred, MAX_TRANSFER_SIZE));
+
+            int bytes = request.write
+                ? channel.write(buffer, request.position + transferred)
+                : channel.read(buffer, request.position + transferred);
+            if (bytes < 0) {
+                break;
+            }
+            transferred += bytes;
+        }
+        return transferred;
+    }
+
+    /** A file channel shared by the requests of a batch that target the same file. */
+    private static final class SharedChannel {
+
+        private final Path path;
+
+        /** The number of requests that use this channel. Only modified before the batch is submitted. */
+        int references;
+
+        private final AtomicInteger released = new AtomicInteger();
+
+        @Nullable
+        private FileChannel channel;
+        @Nullable
+        private IOException error;
+
+        SharedChannel(Path path) {
+            this.path = path;
+        }
+
+        synchronized FileChannel get(boolean write) throws IOException {
+            if (channel == null) {
+                if (error != null) {
+                    throw error;
+                }
+                try {
+                    channel = write
+                        ? FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE)
+                        : FileChannel.open(path, StandardOpenOption.READ);
+                } catch (IOException e) {
+                    error = e;
+                    throw e;
+                }
+            }
+            return channel;
+        }
+
+        void release() {
+            if (released.incrementAndGet() == references) {
+                synchronized (this) {
+                    if (channel != null) {
+                        try {
+                            channel.close();
+                        } catch (IOException ignored) {
+                        }
+                        channel = null;
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -34,7 +34,18 @@ public abstract class Callback implements Pointer, NativeResource {
         CLONG,
         FLOAT,
         DOUBLE,
-        PTR;
+        PTR,
+        PTR_PP,
+        VOID_PI,
+        INT_PP;
+
+    /** The maximum number of freed {@code DCCallback} objects that are kept for reuse. */
+    static final int POOL_CAPACITY = 64;
+
+    // Guarded by Callback.class, only accessed in poll() and offer()
+    private static final long[] pool = new long[POOL_CAPACITY];
+
+    private static int poolSize;
 
     static {
         // Setup native callbacks
@@ -51,7 +62,10 @@ public abstract class Callback implements Pointer, NativeResource {
                 CallbackI.N.class.getDeclaredMethod("callback", params),
                 CallbackI.F.class.getDeclaredMethod("callback", params),
                 CallbackI.D.class.getDeclaredMethod("callback", params),
-                CallbackI.P.class.getDeclaredMethod("callback", params)
+                CallbackI.P.class.getDeclaredMethod("callback", params),
+                CallbackI.P_PP.class.getDeclaredMethod("callback", long.class, long.class),
+                CallbackI.V_PI.class.getDeclaredMethod("callback", long.class, int.class),
+                CallbackI.I_PP.class.getDeclaredMethod("callback", long.class, long.class)
             };
 
             PointerBuffer callbacks = stack.mallocPointer(methods.length);
@@ -68,6 +82,9 @@ public abstract class Callback implements Pointer, NativeResource {
             FLOAT = callbacks.get();
             DOUBLE = callbacks.get();
             PTR = callbacks.get();
+            PTR_PP = callbacks.get();
+            VOID_PI = callbacks.get();
+            INT_PP = callbacks.get();
         } catch (Exception e) {
             throw new IllegalStateException("Failed to initialize native callbacks.", e);
         }
@@ -119,17 +136,25 @@ public abstract class Callback implements Pointer, NativeResource {
      *
      * <p>The native function uses the default calling convention.</p>
      *
+     * <p>If {@code instance} implements one of the signature-specialized interfaces in {@link CallbackI} and {@code signature} matches it, the arguments
+     * are decoded in native code and passed directly to the Java method. {@code DCCallback} objects released by {@link #free(long)} are reused.</p>
+     *
      * @param signature the {@code dyncall} function signature
      * @param instance  the callback instance
      *
      * @return the dynamically generated native function
      */
     static long create(String signature, Object instance) {
-        long funcptr = getNativeFunction(signature.charAt(signature.length() - 1));
-
-        long handle = dcbNewCallback(signature, funcptr, NewGlobalRef(instance));
-        if (handle == NULL) {
-            throw new IllegalStateException("Failed to create the DCCallback object");
+        long funcptr = getNativeFunction(signature, instance);
+
+        long handle = poll();
+        if (handle != NULL) {
+            dcbInitCallback(handle, signature, funcptr, NewGlobalRef(instance));
+        } else {
+            handle = dcbNewCallback(signature, funcptr, NewGlobalRef(instance));
+            if (handle == NULL) {
+                throw new IllegalStateException("Failed to create the DCCallback object");
+            }
         }
 
         if (DEBUG_ALLOCATOR) {
@@ -139,8 +164,18 @@ public abstract class Callback implements Pointer, NativeResource {
         return handle;
     }
 
-    private static long getNativeFunction(char type) {
-        switch (type) {
+    private static long getNativeFunction(String signature, Object instance) {
+        if (instance instanceof CallbackI.P_PP && "(pp)p".equals(signature)) {
+            return PTR_PP;
+        }
+        if (instance instanceof CallbackI.I_PP && "(pp)i".equals(signature)) {
+            return INT_PP;
+        }
+        if (instance instanceof CallbackI.V_PI && "(pi)v".equals(signature)) {
+            return VOID_PI;
+        }
+        // Generic handler, also used for specialized instances with a different calling convention (e.g. __stdcall on x86)
+        switch (signature.charAt(signature.length() - 1)) {
             case 'v':
                 return VOID;
             case 'B':
@@ -195,7 +230,21 @@ public abstract class Callback implements Pointer, NativeResource {
         }
 
         DeleteGlobalRef(dcbGetUserData(functionPointer));
-        dcbFreeCallback(functionPointer);
+        if (!offer(functionPointer)) {
+            dcbFreeCallback(functionPointer);
+        }
+    }
+
+    private static synchronized long poll() {
+        return poolSize == 0 ? NULL : pool[--poolSize];
+    }
+
+    private static synchronized boolean offer(long handle) {
+        if (poolSize == POOL_CAPACITY) {
+            return false;
+        }
+        pool[poolSize++] = handle;
+        return true;
     }
 
     public boolean equals(Object o) {
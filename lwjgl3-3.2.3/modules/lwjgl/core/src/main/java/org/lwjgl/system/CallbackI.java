@@ -4,6 +4,8 @@
  */
 package org.lwjgl.system;
 
+import static org.lwjgl.system.dyncall.DynCallback.*;
+
 /**
  * <p>Base interface for dynamically created native functions that call into Java code. Pointers to such functions can be passed to native APIs as callbacks.</p>
  *
@@ -19,6 +21,14 @@ package org.lwjgl.system;
  * <li>{@link D}</li>
  * <li>{@link P}</li>
  * </ul>
+ *
+ * <p>Callbacks with the most common signatures may use the following interfaces, which receive their arguments directly instead of via a {@code DCArgs}
+ * iterator:</p>
+ * <ul>
+ * <li>{@link P_PP} - {@code (pp)p}</li>
+ * <li>{@link I_PP} - {@code (pp)i}</li>
+ * <li>{@link V_PI} - {@code (pi)v}</li>
+ * </ul>
  */
 public interface CallbackI extends Pointer {
 
@@ -152,5 +162,52 @@ public interface CallbackI extends Pointer {
         long callback(long args);
     }
 
+    /** A {@code Callback} with two pointer parameters that returns a pointer value. Native code calls {@link #callback(long, long)} directly. */
+    interface P_PP extends P {
+        /**
+         * Will be called by native code.
+         *
+         * @return the value to store to the result {@code DCValue}
+         */
+        long callback(long a, long b);
+
+        @Override
+        default long callback(long args) {
+            long a = dcbArgPointer(args);
+            long b = dcbArgPointer(args);
+            return callback(a, b);
+        }
+    }
+
+    /** A {@code Callback} with two pointer parameters that returns an int value. Native code calls {@link #callback(long, long)} directly. */
+    interface I_PP extends I {
+        /**
+         * Will be called by native code.
+         *
+         * @return the value to store to the result {@code DCValue}
+         */
+        int callback(long a, long b);
+
+        @Override
+        default int callback(long args) {
+            long a = dcbArgPointer(args);
+            long b = dcbArgPointer(args);
+            return callback(a, b);
+        }
+    }
+
+    /** A {@code Callback} with a pointer and an int parameter and no return value. Native code calls {@link #callback(long, int)} directly. */
+    interface V_PI extends V {
+        /** Will be called by native code. */
+        void callback(long a, int b);
+
+        @Override
+        default void callback(long args) {
+            long a = dcbArgPointer(args);
+            int  b = dcbArgInt(args);
+            callback(a, b);
+        }
+    }
+
 }
 
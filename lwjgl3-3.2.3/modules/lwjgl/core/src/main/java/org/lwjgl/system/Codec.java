@@ -0,0 +1,92 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * A general-purpose compression codec, implemented by the compression bindings.
+ *
+ * <p>The LZ4 and Zstandard bindings provide {@code org.lwjgl.util.lz4.LZ4Codec} and {@code org.lwjgl.util.zstd.ZstdCodec} respectively. Code that only
+ * depends on this interface can switch between them, for example with the recommendations of a {@link CodecCalibrator}.</p>
+ *
+ * <p>Compression levels are codec-specific. {@link #mapLevel} translates a portable level, between {@link #LEVEL_FASTEST} and {@link #LEVEL_BEST}, to
+ * a level of the codec.</p>
+ *
+ * <p>The one-shot and streaming methods produce the same format, so data compressed with one can be decompressed with the other. Implementations are
+ * thread-safe; the channels they create are not.</p>
+ */
+public interface Codec extends NativeResource {
+
+    /** The fastest portable compression level. */
+    int LEVEL_FASTEST = 1;
+
+    /** The best portable compression level. */
+    int LEVEL_BEST = 9;
+
+    /** Returns the name of the codec, such as {@code "lz4"} or {@code "zstd"}. */
+    String getName();
+
+    /** Returns the default compression level of the codec. */
+    int getDefaultLevel();
+
+    /**
+     * Translates a portable compression level to a level of the codec.
+     *
+     * @param level a level between {@link #LEVEL_FASTEST} and {@link #LEVEL_BEST}. Higher levels trade speed for a better compression ratio.
+     *
+     * @return the codec level
+     */
+    int mapLevel(int level);
+
+    /** Returns the maximum size of the compressed output of {@code size} bytes. */
+    long compressBound(long size);
+
+    /**
+     * Compresses the remaining bytes of {@code src} into {@code dst}. The buffer positions are not modified.
+     *
+     * @param src   a direct buffer
+     * @param dst   a direct buffer with at least {@link #compressBound compressBound}{@code (src.remaining())} bytes remaining
+     * @param level the codec compression level
+     *
+     * @return the compressed size
+     *
+     * @throws BufferOverflowException if {@code dst} does not have enough space remaining
+     */
+    long compress(ByteBuffer src, ByteBuffer dst, int level);
+
+    /**
+     * Decompresses the remaining bytes of {@code src} into {@code dst}. The buffer positions are not modified.
+     *
+     * @param src a direct buffer that contains data compressed by this codec
+     * @param dst a direct buffer with enough space for the decompressed data
+     *
+     * @return the decompressed size
+     *
+     * @throws IllegalStateException if {@code src} is corrupted or {@code dst} is too small
+     */
+    long decompress(ByteBuffer src, ByteBuffer dst);
+
+    /**
+     * Returns a channel that compresses the bytes written to it and writes them to {@code target}.
+     *
+     * <p>Closing the returned channel finishes the compressed stream and closes {@code target}.</p>
+     *
+     * @param target the channel to write the compressed stream to
+     * @param level  the codec compression level
+     */
+    WritableByteChannel newCompressingChannel(WritableByteChannel target, int level);
+
+    /**
+     * Returns a channel that reads a compressed stream from {@code source} and decompresses it.
+     *
+     * <p>Closing the returned channel closes {@code source}.</p>
+     *
+     * @param source the channel to read the compressed stream from
+     */
+    ReadableByteChannel newDecompressingChannel(ReadableByteChannel source);
+
+}
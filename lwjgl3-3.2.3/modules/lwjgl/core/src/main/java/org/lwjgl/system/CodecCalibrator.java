@@ -0,0 +1,337 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Measures the compression ratio and speed of {@link Codec} configurations on samples of real data, and recommends a configuration per data class.
+ *
+ * <p>Samples are grouped in data classes, such as {@code "meshes"}, {@code "json"} or {@code "logs"}. Each candidate configuration, a codec and a level, is
+ * measured on all samples of a class: the samples are compressed and decompressed repeatedly for at least the configured measurement time, after one
+ * verified round-trip that also serves as warm-up. Speeds are reported in MB/s (10<sup>6</sup> bytes per second) of uncompressed data.</p>
+ *
+ * <p>A recommendation is the configuration with the best compression ratio among those that meet the minimum compression and decompression speeds. If no
+ * configuration is fast enough, the configuration with the fastest compression is recommended.</p>
+ *
+ * <p>This class is not thread-safe. Measurements run on the calling thread.</p>
+ */
+public final class CodecCalibrator implements NativeResource {
+
+    /** The measured performance of a codec configuration on a data class. */
+    public static final class Result {
+
+        private final String dataClass;
+
+        private final Codec codec;
+        private final int   level;
+
+        private final long size;
+        private final long compressedSize;
+
+        private final double compressionSpeed;
+        private final double decompressionSpeed;
+
+        Result(String dataClass, Codec codec, int level, long size, long compressedSize, double compressionSpeed, double decompressionSpeed) {
+            this.dataClass = dataClass;
+            this.codec = codec;
+            this.level = level;
+            this.size = size;
+            this.compressedSize = compressedSize;
+            this.compressionSpeed = compressionSpeed;
+            this.decompressionSpeed = decompressionSpeed;
+        }
+
+        /** Returns the data class that was measured. */
+        public String getDataClass() { return dataClass; }
+
+        /** Returns the codec that was measured. */
+        public Codec getCodec() { return codec; }
+
+        /** Returns the codec compression level that was measured. */
+        public int getLevel() { return level; }
+
+        /** Returns the total size of the samples. */
+        public long getSize() { return size; }
+
+        /** Returns the total compressed size of the samples. */
+        public long getCompressedSize() { return compressedSize; }
+
+        /** Returns the compression ratio, the uncompressed size divided by the compressed size. */
+        public double getRatio() { return compressedSize == 0L ? 1.0 : size / (double)compressedSize; }
+
+        /** Returns the compression speed, in MB/s of uncompressed data. */
+        public double getCompressionSpeed() { return compressionSpeed; }
+
+        /** Returns the decompression speed, in MB/s of uncompressed data. */
+        public double getDecompressionSpeed() { return decompressionSpeed; }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%s: %s level %d, ratio %.3f, compression %.1f MB/s, decompression %.1f MB/s",
+                dataClass, codec.getName(), level, getRatio(), compressionSpeed, decompressionSpeed
+            );
+        }
+
+    }
+
+    private static final class Candidate {
+
+        final Codec codec;
+        final int   level;
+
+        Candidate(Codec codec, int level) {
+            this.codec = codec;
+            this.level = level;
+        }
+
+    }
+
+    private final long minTime;
+
+    private final List<Candidate> candidates = new ArrayList<>();
+
+    private final Map<String, List<ByteBuffer>> samples = new LinkedHashMap<>();
+
+    /** Creates a new calibrator that measures each configuration for at least 100 milliseconds. */
+    public CodecCalibrator() {
+        this(100L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new calibrator.
+     *
+     * @param minTime the minimum time to measure the compression and the decompression of each configuration, per data class
+     * @param unit    the unit of {@code minTime}
+     */
+    public CodecCalibrator(long minTime, TimeUnit unit) {
+        if (minTime <= 0L) {
+            throw new IllegalArgumentException("Invalid measurement time: " + minTime);
+        }
+        this.minTime = unit.toNanos(minTime);
+    }
+
+    /**
+     * Adds the specified codec as a candidate, at each distinct level returned by {@link Codec#mapLevel mapLevel} for the portable levels
+     * {@link Codec#LEVEL_FASTEST} to {@link Codec#LEVEL_BEST}.
+     *
+     * @return this calibrator
+     */
+    public CodecCalibrator addCodec(Codec codec) {
+        Set<Integer> levels = new LinkedHashSet<>();
+        for (int level = Codec.LEVEL_FASTEST; level <= Codec.LEVEL_BEST; level++) {
+            levels.add(codec.mapLevel(level));
+        }
+        for (int level : levels) {
+            candidates.add(new Candidate(codec, level));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the specified codec as a candidate, at the specified codec levels.
+     *
+     * @return this calibrator
+     */
+    public CodecCalibrator addCodec(Codec codec, int... levels) {
+        for (int level : levels) {
+            candidates.add(new Candidate(codec, level));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a sample to the specified data class.
+     *
+     * <p>The remaining bytes of {@code sample} are copied, the buffer may be reused after this method returns. Empty samples are ignored.</p>
+     *
+     * @return this calibrator
+     */
+    public CodecCalibrator addSample(String dataClass, ByteBuffer sample) {
+        int size = sample.remaining();
+        if (size != 0) {
+            ByteBuffer copy = memAlloc(size);
+            memCopy(memAddress(sample), memAddress(copy), size);
+            samples.computeIfAbsent(dataClass, key -> new ArrayList<>()).add(copy);
+        }
+        return this;
+    }
+
+    /** Returns the data classes that have at least one sample, in insertion order. */
+    public Set<String> getDataClasses() {
+        return Collections.unmodifiableSet(samples.keySet());
+    }
+
+    /**
+     * Measures every candidate configuration on the samples of the specified data class.
+     *
+     * @return the results, in the order the candidates were added
+     *
+     * @throws IllegalArgumentException if the data class has no samples
+     * @throws IllegalStateException    if a codec fails to round-trip a sample
+     */
+    public List<Result> measure(String dataClass) {
+        List<ByteBuffer> data = samples.get(dataClass);
+        if (data == null) {
+            throw new IllegalArgumentException("No samples for data class: " + dataClass);
+        }
+
+        long size    = 0L;
+        int  maxSize = 0;
+        for (ByteBuffer sample : data) {
+            size += sample.remaining();
+            maxSize = Math.max(maxSize, sample.remaining());
+        }
+
+        List<Result> results = new ArrayList<>(candidates.size());
+
+        ByteBuffer[] compressed      = new ByteBuffer[data.size()];
+        int[]        compressedSizes = new int[data.size()];
+        ByteBuffer   decompressed    = memAlloc(maxSize);
+        try {
+            for (Candidate candidate : candidates) {
+                Codec codec = candidate.codec;
+
+                // Round-trip once to verify the codec and warm up
+                long compressedSize = 0L;
+                for (int i = 0; i < compressed.length; i++) {
+                    ByteBuffer sample = data.get(i);
+
+                    long bound = codec.compressBound(sample.remaining());
+                    if (compressed[i] == null || compressed[i].capacity() < bound) {
+                        memFree(compressed[i]);
+                        compressed[i] = memAlloc((int)bound);
+                    }
+                    compressed[i].clear();
+                    compressedSizes[i] = (int)codec.compress(sample, compressed[i], candidate.level);
+                    compressed[i].limit(compressedSizes[i]);
+                    compressedSize += compressedSizes[i];
+
+                    decompressed.clear();
+                    decompressed.limit((int)codec.decompress(compressed[i], decompressed));
+                    if (!decompressed.equals(sample)) {
+                        throw new IllegalStateException("Codec " + codec.getName() + " at level " + candidate.level + " failed to round-trip a sample.");
+                    }
+                }
+
+                long t = System.nanoTime();
+                long rounds = 0L;
+                long elapsed;
+                do {
+                    for (int i = 0; i < compressed.length; i++) {
+                        ByteBuffer output = compressed[i];
+                        output.clear();
+                        codec.compress(data.get(i), output, candidate.level);
+                    }
+                    rounds++;
+                } while ((elapsed = System.nanoTime() - t) < minTime);
+                double compressionSpeed = getSpeed(size, rounds, elapsed);
+
+                // Compression is deterministic, the buffers contain the verified output
+                for (int i = 0; i < compressed.length; i++) {
+                    compressed[i].limit(compressedSizes[i]);
+                }
+
+                t = System.nanoTime();
+                rounds = 0L;
+                do {
+                    for (ByteBuffer input : compressed) {
+                        decompressed.clear();
+                        codec.decompress(input, decompressed);
+                    }
+                    rounds++;
+                } while ((elapsed = System.nanoTime() - t) < minTime);
+                double decompressionSpeed = getSpeed(size, rounds, elapsed);
+
+                results.add(new Result(dataClass, codec, candidate.level, size, compressedSize, compressionSpeed, decompressionSpeed));
+            }
+        } finally {
+            memFree(decompressed);
+            for (ByteBuffer buffer : compressed) {
+                memFree(buffer);
+            }
+        }
+
+        return results;
+    }
+
+    private static double getSpeed(long size, long rounds, long nanos) {
+        return (size * rounds) / (nanos / 1e9) / 1e6;
+    }
+
+    /**
+     * Returns the recommended configuration among the specified results.
+     *
+     * @param results               the measured configurations
+     * @param minCompressionSpeed   the minimum compression speed, in MB/s
+     * @param minDecompressionSpeed the minimum decompression speed, in MB/s
+     *
+     * @return the configuration with the best ratio that meets both speeds, or the configuration with the fastest compression if none does, or
+     *         {@code null} if {@code results} is empty
+     */
+    @Nullable
+    public static Result recommend(List<Result> results, double minCompressionSpeed, double minDecompressionSpeed) {
+        Result best    = null;
+        Result fastest = null;
+        for (Result result : results) {
+            if (fastest == null || fastest.compressionSpeed < result.compressionSpeed) {
+                fastest = result;
+            }
+
+            if (result.compressionSpeed < minCompressionSpeed || result.decompressionSpeed < minDecompressionSpeed) {
+                continue;
+            }
+            if (best == null
+                || best.getRatio() < result.getRatio()
+                || (best.getRatio() == result.getRatio() && best.compressionSpeed < result.compressionSpeed)) {
+                best = result;
+            }
+        }
+        return best != null ? best : fastest;
+    }
+
+    /**
+     * Measures every data class and recommends a configuration for each.
+     *
+     * @param minCompressionSpeed   the minimum compression speed, in MB/s
+     * @param minDecompressionSpeed the minimum decompression speed, in MB/s
+     *
+     * @return the recommended configuration of each data class, in insertion order
+     *
+     * @throws IllegalStateException if no codec has been added
+     */
+    public Map<String, Result> calibrate(double minCompressionSpeed, double minDecompressionSpeed) {
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No codec has been added.");
+        }
+
+        Map<String, Result> recommendations = new LinkedHashMap<>();
+        for (String dataClass : samples.keySet()) {
+            Result result = recommend(measure(dataClass), minCompressionSpeed, minDecompressionSpeed);
+            if (result != null) {
+                recommendations.put(dataClass, result);
+            }
+        }
+        return recommendations;
+    }
+
+    /** Frees the sample copies. The codecs are not freed. */
+    @Override
+    public void free() {
+        for (List<ByteBuffer> data : samples.values()) {
+            for (ByteBuffer sample : data) {
+                memFree(sample);
+            }
+        }
+        samples.clear();
+    }
+
+}
@@ -105,6 +105,39 @@ public class Configuration<T> {
         StateInit.STRING
     );
 
+    /**
+     * Enables the extraction manifest. When enabled, LWJGL records the size, last-modified time and CRC-32 of each extracted shared library in a
+     * {@code .lwjgl.manifest} file in the extraction directory. On subsequent runs, an extracted file that matches its manifest entry and the CRC-32 of the
+     * bundled resource is used without hashing its contents again.
+     *
+     * <p>Defaults to true.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.SharedLibraryExtractManifest</b><br>
+     * &nbsp; &nbsp;Usage: Dynamic</p>
+     */
+    public static final Configuration<Boolean> SHARED_LIBRARY_EXTRACT_MANIFEST = new Configuration<>(
+        "org.lwjgl.system.SharedLibraryExtractManifest",
+        StateInit.BOOLEAN
+    );
+
+    /**
+     * EXPERIMENTAL: When enabled, the first shared library extracted from a JAR file triggers the concurrent extraction of all shared libraries in the
+     * LWJGL natives JAR files on the classpath, for the current platform. Libraries that are not JNI libraries are also opened with
+     * {@link Library#loadNative} semantics ({@code dlopen}/{@code LoadLibrary}) in the background, so that loading them later is cheap.
+     *
+     * <p>Libraries opened in the background remain loaded until the JVM exits. This option is meant for short-lived applications that load several
+     * LWJGL modules at startup.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.SharedLibraryExtractParallel</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> SHARED_LIBRARY_EXTRACT_PARALLEL = new Configuration<>(
+        "org.lwjgl.system.SharedLibraryExtractParallel",
+        StateInit.BOOLEAN
+    );
+
     /**
      * EXPERIMENTAL: Emulates {@link System#loadLibrary} behavior in {@link Library#loadNative}.
      *
@@ -117,6 +150,37 @@ public class Configuration<T> {
         StateInit.BOOLEAN
     );
 
+    /**
+     * EXPERIMENTAL: When enabled on Java 22 or higher, the {@link JNI} methods call native functions via downcall handles of the Foreign Function &amp;
+     * Memory API, instead of JNI. Downcall handles are created lazily, the first time each signature is used. Requires a 64-bit JVM; the Array API methods
+     * are always dispatched via JNI.
+     *
+     * <p>The Java 22 version of the {@link JNI} class is only included in LWJGL builds with the {@code LWJGL_BUILD_FFM} option. Otherwise, this option is
+     * ignored and the {@link JNI} methods are always standard JNI methods.</p>
+     *
+     * <p>Native access must be enabled for the LWJGL core module (e.g. {@code --enable-native-access=org.lwjgl}), otherwise the JVM prints a warning.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.jni.ffm</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> JNI_FFM = new Configuration<>("org.lwjgl.system.jni.ffm", StateInit.BOOLEAN);
+
+    /**
+     * EXPERIMENTAL: When enabled together with {@link #JNI_FFM}, downcall handles are created with the {@code Linker.Option.critical} option for a fixed list
+     * of functions that return quickly and never call into Java. Critical downcalls skip the thread state transition, which makes short native calls
+     * considerably cheaper.
+     *
+     * <p>The list is maintained explicitly in the LWJGL generator and currently contains Vulkan command buffer recording functions only (e.g.
+     * {@code vkCmdDraw}). A signature that is shared with any other function, blocking or not, always uses a regular downcall handle. The option must not be
+     * enabled when Vulkan validation layers with debug messengers are used, because they may call into Java synchronously.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.jni.ffm.critical</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> JNI_FFM_CRITICAL = new Configuration<>("org.lwjgl.system.jni.ffm.critical", StateInit.BOOLEAN);
+
     /**
      * Can be used to override the LWJGL library name. It can be an absolute path.
      *
@@ -137,6 +201,11 @@ public class Configuration<T> {
      * created. It never calls {@code rpmalloc_finalize}. The user is responsible for calling {@code rpmalloc_thread_initialize} and
      * {@code rpmalloc_thread_finalize} when appropriate.</p></div></li>
      * <li><em>system</em> - The default system memory allocator</li>
+     * <li><em>slab</em> - A pure-Java allocator that serves blocks of up to 512 bytes from thread-cached, size-class slabs and forwards bigger blocks to
+     * the system allocator.<br>
+     * <div style="margin-left: 26px; border-left: 1px solid gray; padding-left: 14px;"><p>Slab memory is carved from 1MB regions that are never returned to
+     * the system. The function pointers returned by the allocator are Java callbacks, so native code that allocates through them will be slower than with
+     * the other allocators.</p></div></li>
      * <li><em>&lt;classpath&gt;</em> - A class that implements the {@link MemoryAllocator MemoryAllocator} interface. It will be instantiated using reflection.</li>
      * </ul>
      *
@@ -149,6 +218,35 @@ public class Configuration<T> {
      */
     public static final Configuration<Object> MEMORY_ALLOCATOR = new Configuration<>("org.lwjgl.system.allocator", StateInit.STRING);
 
+    /**
+     * Set to true to collect live statistics for the allocator used by the {@link MemoryUtil} explicit memory management API. The statistics are available
+     * via {@link MemoryUtil#memStats} and are also registered as a JMX MBean.
+     *
+     * <p>Counters are updated with striped cells. The size of each live block is kept in a striped hash table, so that the number of bytes freed and live is
+     * available for every allocator. Byte counts use the requested size of each allocation, unless {@link #MEMORY_ALLOCATOR_STATS_USABLE_SIZE} is also
+     * enabled. Allocations made by native code, through the allocator's function pointers, are not counted.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.allocator.stats</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> MEMORY_ALLOCATOR_STATS = new Configuration<>("org.lwjgl.system.allocator.stats", StateInit.BOOLEAN);
+
+    /**
+     * Set to true to count the usable size of each block, instead of the requested size, when {@link #MEMORY_ALLOCATOR_STATS} is enabled.
+     *
+     * <p>The usable size is queried from the allocator when a block is allocated or reallocated. This costs an extra native call per operation. The
+     * requested size is used for blocks whose usable size the allocator cannot report.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.allocator.stats.usableSize</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> MEMORY_ALLOCATOR_STATS_USABLE_SIZE = new Configuration<>(
+        "org.lwjgl.system.allocator.stats.usableSize",
+        StateInit.BOOLEAN
+    );
+
     /**
      * Sets the stack size, in kilobytes, that will be used in the default {@link MemoryStack} constructor. This value is also used for the LWJGL-managed,
      * thread-local, {@link MemoryStack} instances.
@@ -161,6 +259,20 @@ public class Configuration<T> {
      */
     public static final Configuration<Integer> STACK_SIZE = new Configuration<>("org.lwjgl.system.stackSize", StateInit.INT);
 
+    /**
+     * Set to true to make {@link MemoryStack} instances growable. When a stack runs out of space, allocations overflow to additional segments, allocated with
+     * {@link MemoryUtil#nmemAlloc}, instead of throwing an {@link OutOfMemoryError}. A segment is freed when the stack frame that was active when it was
+     * allocated is popped.
+     *
+     * <p>Overflow requires an active stack frame. Allocations made without a frame, or outside a {@link MemoryStack#push push}/{@link MemoryStack#pop pop}
+     * pair, still throw when the stack is full.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.system.stackGrowable</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> STACK_GROWABLE = new Configuration<>("org.lwjgl.system.stackGrowable", StateInit.BOOLEAN);
+
     /**
      * Sets the size of arrays cached in thread-local storage to minimize allocations while decoding text.
      *
@@ -236,7 +348,8 @@ public class Configuration<T> {
      * will be reported on JVM exit. The {@code memReport} methods can also be used.
      *
      * <p>When this option is enabled, a stacktrace is generated on every allocation, which may negatively impact performance. If this becomes a serious issue,
-     * the JVM option {@code -XX:MaxJavaStackTraceDepth=d} (where {@code d >= 6}) can be used to reduce the overhead.</p>
+     * the JVM option {@code -XX:MaxJavaStackTraceDepth=d} (where {@code d >= 6}) can be used to reduce the overhead. Alternatively,
+     * {@link #DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE} can be used to capture a stacktrace for a subset of allocations only.</p>
      *
      * <p style="font-family: monospace">
      * Property: <b>org.lwjgl.util.DebugAllocator</b><br>
@@ -255,6 +368,30 @@ public class Configuration<T> {
      */
     public static final Configuration<Boolean> DEBUG_MEMORY_ALLOCATOR_INTERNAL = new Configuration<>("org.lwjgl.util.DebugAllocator.internal", StateInit.BOOLEAN);
 
+    /**
+     * Enables sampling in the {@link #DEBUG_MEMORY_ALLOCATOR debug allocator}. A stacktrace will be captured for 1 in {@code N} allocations, chosen at
+     * random. The remaining allocations are still tracked for leaks, but without a stacktrace or thread information. The aggregated {@code memReport}
+     * methods extrapolate the sampled allocations to estimate totals.
+     *
+     * <p>If this option is not set, it defaults to 1 (every allocation is sampled).</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.util.DebugAllocator.sampleRate</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE = new Configuration<>("org.lwjgl.util.DebugAllocator.sampleRate", StateInit.INT);
+
+    /**
+     * When {@link #DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE} is greater than 1, a stacktrace will always be captured for allocations of at least this many bytes.
+     *
+     * <p>If this option is not set, or set to 0, only the sample rate is used.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.util.DebugAllocator.sampleSize</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Integer> DEBUG_MEMORY_ALLOCATOR_SAMPLE_SIZE = new Configuration<>("org.lwjgl.util.DebugAllocator.sampleSize", StateInit.INT);
+
     /**
      * Set to true to enable LWJGL's debug mode for the {@link MemoryStack}. When using the stack, each frame should be popped in the same method that pushed
      * it. If this symmetry is broken, this mode will report it immediately.
@@ -281,6 +418,20 @@ public class Configuration<T> {
      */
     public static final Configuration<Boolean> DEBUG_FUNCTIONS = new Configuration<>("org.lwjgl.util.DebugFunctions", StateInit.BOOLEAN);
 
+    /**
+     * Set to true to enable the native function profiler. When enabled, the generated bindings record the number of calls and the time spent in each native
+     * function. The results are available via {@link FunctionProfiler#dump} and are also exposed as a JMX MBean.
+     *
+     * <p>When this option is disabled, the instrumentation in the generated bindings is eliminated by the JIT compiler. When enabled, recording can be paused
+     * and resumed at runtime, using {@link FunctionProfiler#setRecording}. Functions that are bound directly to JNI methods and the bindings in the LWJGL core
+     * module are not profiled.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.util.ProfileFunctions</b><br>
+     * &nbsp; &nbsp;Usage: Static</p>
+     */
+    public static final Configuration<Boolean> PROFILE_FUNCTIONS = new Configuration<>("org.lwjgl.util.ProfileFunctions", StateInit.BOOLEAN);
+
     // -- ASSIMP
 
     /** Similar to {@link #LIBRARY_NAME} for the AssImp library (<b>org.lwjgl.assimp.libname</b>). */
@@ -426,6 +577,20 @@ public class Configuration<T> {
      */
     public static final Configuration<Object> OPENGL_MAXVERSION = new Configuration<>("org.lwjgl.opengl.maxVersion", StateInit.STRING);
 
+    /**
+     * Set to true to only retrieve the addresses of functions that belong to the OpenGL versions and extensions reported by the current context, when a
+     * {@code GLCapabilities} instance is created. This reduces the cost of {@code GL.createCapabilities} considerably, which is useful when many short-lived
+     * contexts are created.
+     *
+     * <p>By default, the addresses of all functions are retrieved, because some drivers expose functions of extensions they do not report. Such functions
+     * are not available when this option is enabled.</p>
+     *
+     * <p style="font-family: monospace">
+     * Property: <b>org.lwjgl.opengl.supportedFunctionsOnly</b><br>
+     * &nbsp; &nbsp;Usage: Dynamic</p>
+     */
+    public static final Configuration<Boolean> OPENGL_SUPPORTED_FUNCTIONS_ONLY = new Configuration<>("org.lwjgl.opengl.supportedFunctionsOnly", StateInit.BOOLEAN);
+
     // -- OPENGL ES
 
     /** Similar to {@link #EGL_EXPLICIT_INIT} for the OpenGL ES library (<b>org.lwjgl.opengles.explicitInit</b>). */
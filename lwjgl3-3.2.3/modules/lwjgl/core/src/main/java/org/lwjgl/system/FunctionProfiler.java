@@ -0,0 +1,489 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.io.*;
+import java.lang.ref.*;
+import java.util.*;
+
+import static org.lwjgl.system.APIUtil.*;
+
+/**
+ * Records the number of calls and the time spent in native functions, when {@link Configuration#PROFILE_FUNCTIONS} is enabled.
+ *
+ * <p>Each binding class registers its functions when it is initialized and receives a range of function ids. The generated methods call {@link #start}
+ * before and {@link #end} after each native function call. When profiling is disabled, both methods do nothing and the JIT compiler eliminates them.</p>
+ *
+ * <p>Measurements are recorded in per-thread arrays indexed by function id, so recording does not require synchronization. Reading them is more expensive
+ * and the values returned are not an atomic snapshot. The measurements of terminated threads are merged into a single snapshot, the next time a thread
+ * starts recording or the measurements are read. Call times are also recorded in a logarithmic histogram per function, with 4 sub-buckets per power
+ * of two, which is used to estimate percentiles with a relative error of up to 25%.</p>
+ */
+public final class FunctionProfiler {
+
+    /** True if native function profiling is enabled. */
+    public static final boolean ENABLED = Configuration.PROFILE_FUNCTIONS.get(false);
+
+    static final int HISTOGRAM_BUCKETS = 63 * 4;
+
+    private static final Object LOCK = new Object();
+
+    private static String[] functions = new String[0];
+
+    /** The measurements of live threads, guarded by {@link #LOCK}. */
+    private static final List<ThreadStats> THREADS = new ArrayList<>();
+
+    private static final ThreadLocal<ThreadStats> STATS = ThreadLocal.withInitial(() -> {
+        ThreadStats stats = new ThreadStats();
+        synchronized (LOCK) {
+            retireTerminatedThreads();
+            THREADS.add(stats);
+        }
+        return stats;
+    });
+
+    /** The measurements of terminated threads, guarded by {@link #LOCK}. */
+    private static Snapshot retired = new Snapshot(0);
+
+    private static volatile boolean recording = ENABLED;
+
+    private static Snapshot baseline = new Snapshot(0);
+
+    static {
+        if (ENABLED) {
+            apiLog("[FunctionProfiler] Native function profiling enabled");
+            try {
+                java.lang.management.ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new javax.management.StandardMBean(new FunctionProfilerMBean() {
+                        @Override public boolean isRecording() { return FunctionProfiler.isRecording(); }
+                        @Override public void setRecording(boolean recording) { FunctionProfiler.setRecording(recording); }
+
+                        @Override public long getCallCount() { return snapshot().totalCalls(); }
+                        @Override public long getTotalTime() { return snapshot().totalTime(); }
+
+                        @Override public String getReport() { return FunctionProfiler.getReport(); }
+
+                        @Override public void reset() { FunctionProfiler.reset(); }
+                    }, FunctionProfilerMBean.class),
+                    new javax.management.ObjectName("org.lwjgl:type=FunctionProfiler")
+                );
+            } catch (Throwable t) {
+                apiLog("Failed to register the function profiler MBean: " + t);
+            }
+        }
+    }
+
+    private FunctionProfiler() {
+    }
+
+    /**
+     * Registers the functions of a binding class.
+     *
+     * @param clazz     the binding class
+     * @param functions a comma-separated list of function names
+     *
+     * @return the id of the first function. The following functions have consecutive ids, in the order they were specified.
+     */
+    public static int register(Class<?> clazz, String functions) {
+        if (!ENABLED) {
+            return 0;
+        }
+
+        String[] names = functions.split(",");
+        String   owner = clazz.getSimpleName();
+
+        synchronized (LOCK) {
+            int      base    = FunctionProfiler.functions.length;
+            String[] updated = Arrays.copyOf(FunctionProfiler.functions, base + names.length);
+            for (int i = 0; i < names.length; i++) {
+                updated[base + i] = owner + "." + names[i];
+            }
+            FunctionProfiler.functions = updated;
+            return base;
+        }
+    }
+
+    /**
+     * Returns the start timestamp of a native function call, or 0 if calls are not recorded.
+     *
+     * <p>The timestamp must be passed to one of the {@code end} methods, after the native function returns.</p>
+     */
+    public static long start() {
+        return ENABLED && recording ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records a native function call.
+     *
+     * @param id    the function id
+     * @param start the value returned by {@link #start}
+     */
+    public static void end(int id, long start) {
+        if (ENABLED && start != 0L) {
+            STATS.get().record(id, System.nanoTime() - start);
+        }
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static boolean end(int id, long start, boolean result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static byte end(int id, long start, byte result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static short end(int id, long start, short result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static char end(int id, long start, char result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static int end(int id, long start, int result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static long end(int id, long start, long result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static float end(int id, long start, float result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static double end(int id, long start, double result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Records a native function call and returns its result. See {@link #end(int, long)}. */
+    public static <T> T end(int id, long start, T result) {
+        end(id, start);
+        return result;
+    }
+
+    /** Returns true if native function calls are currently recorded. This is always false if profiling is disabled. */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Pauses or resumes recording. This method has no effect if profiling is disabled.
+     *
+     * <p>Calls that are in progress when recording is paused, are still recorded.</p>
+     */
+    public static void setRecording(boolean recording) {
+        if (ENABLED) {
+            FunctionProfiler.recording = recording;
+        }
+    }
+
+    /** Discards the measurements recorded so far. */
+    public static void reset() {
+        Snapshot snapshot = snapshot(false);
+        synchronized (LOCK) {
+            baseline = snapshot;
+        }
+    }
+
+    /**
+     * Returns the number of recorded calls to the specified function.
+     *
+     * <p>Functions that are bound directly to JNI methods are not profiled. This includes most OpenGL functions with only primitive parameters, such as
+     * {@code glDrawArrays} or {@code glUniform4f}. Global variable accessors are not profiled either. This method returns 0 for such functions.</p>
+     *
+     * @param function the function name, qualified with the simple name of its binding class (e.g. {@code "GL11C.glDrawElements"})
+     */
+    public static long getCallCount(String function) {
+        String[] functions = getFunctions();
+        for (int i = 0; i < functions.length; i++) {
+            if (functions[i].equals(function)) {
+                return snapshot().calls[i];
+            }
+        }
+        return 0L;
+    }
+
+    /** Returns a report of the recorded native function calls, sorted by the time spent in each function. */
+    public static String getReport() {
+        StringWriter report = new StringWriter(4096);
+        try (PrintWriter out = new PrintWriter(report)) {
+            print(out);
+        }
+        return report.toString();
+    }
+
+    /**
+     * Prints a report of the recorded native function calls to the specified stream.
+     *
+     * <p>The report includes the number of calls, the total and mean time spent in each function, and the 50th, 90th and 99th percentile of call
+     * times.</p>
+     */
+    public static void dump(PrintStream out) {
+        PrintWriter writer = new PrintWriter(out);
+        print(writer);
+        writer.flush();
+    }
+
+    private static void print(PrintWriter out) {
+        String[] functions = getFunctions();
+        Snapshot snapshot  = snapshot();
+
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < snapshot.calls.length; i++) {
+            if (snapshot.calls[i] != 0L) {
+                ids.add(i);
+            }
+        }
+        ids.sort((a, b) -> Long.compare(snapshot.time[b], snapshot.time[a]));
+
+        int width = 8;
+        for (int id : ids) {
+            width = Math.max(width, functions[id].length());
+        }
+
+        out.printf("%-" + width + "s %12s %12s %10s %10s %10s %10s%n", "Function", "Calls", "Total ms", "Mean ns", "p50 ns", "p90 ns", "p99 ns");
+        for (int id : ids) {
+            long   calls     = snapshot.calls[id];
+            long[] histogram = snapshot.histograms[id];
+            out.printf(
+                "%-" + width + "s %12d %12.3f %10d %10d %10d %10d%n",
+                functions[id],
+                calls,
+                snapshot.time[id] / 1_000_000.0,
+                snapshot.time[id] / calls,
+                percentile(histogram, calls, 0.50),
+                percentile(histogram, calls, 0.90),
+                percentile(histogram, calls, 0.99)
+            );
+        }
+        out.printf("%d functions called, %d calls, %.3f ms total%n", ids.size(), snapshot.totalCalls(), snapshot.totalTime() / 1_000_000.0);
+    }
+
+    private static String[] getFunctions() {
+        synchronized (LOCK) {
+            return functions;
+        }
+    }
+
+    private static Snapshot snapshot() {
+        return snapshot(true);
+    }
+
+    private static Snapshot snapshot(boolean relative) {
+        synchronized (LOCK) {
+            retireTerminatedThreads();
+
+            Snapshot snapshot = new Snapshot(functions.length);
+            snapshot.add(retired);
+            for (ThreadStats stats : THREADS) {
+                stats.addTo(snapshot);
+            }
+            if (relative) {
+                snapshot.subtract(baseline);
+            }
+            return snapshot;
+        }
+    }
+
+    /** Merges the measurements of terminated threads into {@link #retired}. Must be called while holding {@link #LOCK}. */
+    private static void retireTerminatedThreads() {
+        Snapshot merged = null;
+        for (Iterator<ThreadStats> it = THREADS.iterator(); it.hasNext(); ) {
+            ThreadStats stats = it.next();
+            if (stats.isTerminated()) {
+                if (merged == null) {
+                    merged = new Snapshot(functions.length);
+                    merged.add(retired);
+                }
+                stats.addTo(merged);
+                it.remove();
+            }
+        }
+        if (merged != null) {
+            retired = merged;
+        }
+    }
+
+    static int getHistogramBucket(long time) {
+        if (time < 8L) {
+            return (int)Math.max(time, 0L);
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(time);
+        return (msb - 1) * 4 + (int)((time >>> (msb - 2)) & 3L);
+    }
+
+    static long getHistogramBucketValue(int bucket) {
+        if (bucket < 8) {
+            return bucket;
+        }
+        int msb = (bucket >> 2) + 1;
+        return (4L | (bucket & 3)) << (msb - 2);
+    }
+
+    private static long percentile(long[] histogram, long count, double p) {
+        long rank = Math.max(1L, (long)Math.ceil(count * p));
+        long sum  = 0L;
+        for (int i = 0; i < histogram.length; i++) {
+            sum += histogram[i];
+            if (rank <= sum) {
+                return getHistogramBucketValue(i);
+            }
+        }
+        return getHistogramBucketValue(histogram.length - 1);
+    }
+
+    /** Measurements recorded by a single thread. Only the owner thread writes to the arrays, which are grown as binding classes are registered. */
+    private static final class ThreadStats {
+
+        /** Weak, so that the stats of a terminated thread do not keep the thread reachable. */
+        private final WeakReference<Thread> owner = new WeakReference<>(Thread.currentThread());
+
+        long[]   calls      = new long[0];
+        long[]   time       = new long[0];
+        long[][] histograms = new long[0][];
+
+        void record(int id, long time) {
+            if (calls.length <= id) {
+                grow(id);
+            }
+
+            calls[id]++;
+            this.time[id] += time;
+
+            long[] histogram = histograms[id];
+            if (histogram == null) {
+                histograms[id] = histogram = new long[HISTOGRAM_BUCKETS];
+            }
+            histogram[getHistogramBucket(time)]++;
+        }
+
+        private void grow(int id) {
+            int capacity = Math.max(getFunctions().length, id + 1);
+
+            long[][] histograms = Arrays.copyOf(this.histograms, capacity);
+            long[]   time       = Arrays.copyOf(this.time, capacity);
+
+            // calls last, it determines the size of the other arrays in addTo
+            this.histograms = histograms;
+            this.time = time;
+            this.calls = Arrays.copyOf(this.calls, capacity);
+        }
+
+        /** Returns true if the owner thread has terminated. Its measurements will not change after that. */
+        boolean isTerminated() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+
+        void addTo(Snapshot snapshot) {
+            long[]   calls      = this.calls;
+            long[]   time       = this.time;
+            long[][] histograms = this.histograms;
+
+            int count = Math.min(Math.min(calls.length, time.length), Math.min(histograms.length, snapshot.calls.length));
+            for (int i = 0; i < count; i++) {
+                snapshot.calls[i] += calls[i];
+                snapshot.time[i] += time[i];
+
+                long[] histogram = histograms[i];
+                if (histogram != null) {
+                    long[] target = snapshot.histogram(i);
+                    for (int j = 0; j < HISTOGRAM_BUCKETS; j++) {
+                        target[j] += histogram[j];
+                    }
+                }
+            }
+        }
+
+    }
+
+    private static final class Snapshot {
+
+        final long[]   calls;
+        final long[]   time;
+        final long[][] histograms;
+
+        Snapshot(int functions) {
+            calls = new long[functions];
+            time = new long[functions];
+            histograms = new long[functions][];
+        }
+
+        long[] histogram(int id) {
+            long[] histogram = histograms[id];
+            if (histogram == null) {
+                histograms[id] = histogram = new long[HISTOGRAM_BUCKETS];
+            }
+            return histogram;
+        }
+
+        void add(Snapshot other) {
+            int count = Math.min(calls.length, other.calls.length);
+            for (int i = 0; i < count; i++) {
+                calls[i] += other.calls[i];
+                time[i] += other.time[i];
+
+                long[] histogram = other.histograms[i];
+                if (histogram != null) {
+                    long[] target = histogram(i);
+                    for (int j = 0; j < HISTOGRAM_BUCKETS; j++) {
+                        target[j] += histogram[j];
+                    }
+                }
+            }
+        }
+
+        void subtract(Snapshot baseline) {
+            int count = Math.min(calls.length, baseline.calls.length);
+            for (int i = 0; i < count; i++) {
+                calls[i] -= baseline.calls[i];
+                time[i] -= baseline.time[i];
+
+                long[] histogram = baseline.histograms[i];
+                if (histogram != null) {
+                    long[] target = histogram(i);
+                    for (int j = 0; j < HISTOGRAM_BUCKETS; j++) {
+                        target[j] -= histogram[j];
+                    }
+                }
+            }
+        }
+
+        long totalCalls() {
+            long total = 0L;
+            for (long c : calls) {
+                total += c;
+            }
+            return total;
+        }
+
+        long totalTime() {
+            long total = 0L;
+            for (long t : time) {
+                total += t;
+            }
+            return total;
+        }
+
+    }
+
+}
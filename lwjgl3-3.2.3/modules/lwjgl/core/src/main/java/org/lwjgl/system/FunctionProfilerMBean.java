@@ -0,0 +1,33 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+/**
+ * The JMX management interface of {@link FunctionProfiler}.
+ *
+ * <p>When profiling is enabled, an instance is registered with the platform MBean server under the {@code org.lwjgl:type=FunctionProfiler} object
+ * name.</p>
+ */
+public interface FunctionProfilerMBean {
+
+    /** Returns true if native function calls are currently recorded. */
+    boolean isRecording();
+
+    /** Pauses or resumes recording. */
+    void setRecording(boolean recording);
+
+    /** Returns the number of native function calls recorded since the last reset. */
+    long getCallCount();
+
+    /** Returns the time spent in native functions, in nanoseconds, since the last reset. */
+    long getTotalTime();
+
+    /** Returns a report of the recorded native function calls, sorted by the time spent in each function. */
+    String getReport();
+
+    /** Discards the measurements recorded so far. */
+    void reset();
+
+}
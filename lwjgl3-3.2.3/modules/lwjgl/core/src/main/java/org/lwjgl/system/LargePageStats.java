@@ -0,0 +1,106 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Live statistics of the large allocation API ({@link MemoryUtil#memAllocLarge}, {@link MemoryUtil#memFreeLarge}, etc).
+ *
+ * <p>Huge page and NUMA requests are best-effort. The fallback counters report how many requests could not be honored, because the platform or the kernel
+ * lacks support. Even if a huge page request has been accepted, the kernel may still back the allocation with normal pages, {@link #getHugePageBytes}
+ * reports how many bytes actually landed on huge pages.</p>
+ *
+ * @see MemoryUtil#memLargeStats()
+ */
+public final class LargePageStats {
+
+    static final LargePageStats INSTANCE = new LargePageStats();
+
+    private final LongAdder allocations    = new LongAdder();
+    private final LongAdder frees          = new LongAdder();
+    private final LongAdder bytesAllocated = new LongAdder();
+    private final LongAdder bytesFreed     = new LongAdder();
+
+    private final LongAdder hugePageRequests  = new LongAdder();
+    private final LongAdder hugePageFallbacks = new LongAdder();
+    private final LongAdder numaRequests      = new LongAdder();
+    private final LongAdder numaFallbacks     = new LongAdder();
+
+    private LargePageStats() {
+    }
+
+    void onAlloc(long size) {
+        allocations.increment();
+        bytesAllocated.add(size);
+    }
+
+    void onFree(long size) {
+        frees.increment();
+        bytesFreed.add(size);
+    }
+
+    void onHugePageRequest(boolean fallback) {
+        hugePageRequests.increment();
+        if (fallback) {
+            hugePageFallbacks.increment();
+        }
+    }
+
+    void onNUMARequest(boolean fallback) {
+        numaRequests.increment();
+        if (fallback) {
+            numaFallbacks.increment();
+        }
+    }
+
+    /** Returns the number of allocations. */
+    public long getAllocationCount() { return allocations.sum(); }
+    /** Returns the number of frees. */
+    public long getFreeCount() { return frees.sum(); }
+    /** Returns the number of live allocations. */
+    public long getLiveAllocationCount() {
+        // read frees first, to avoid negative values
+        long frees = this.frees.sum();
+        return allocations.sum() - frees;
+    }
+
+    /** Returns the total number of bytes allocated. Allocation sizes are rounded up to the page size or huge page size. */
+    public long getBytesAllocated() { return bytesAllocated.sum(); }
+    /** Returns the total number of bytes freed. */
+    public long getBytesFreed() { return bytesFreed.sum(); }
+    /** Returns the number of bytes currently allocated. */
+    public long getBytesLive() {
+        long freed = bytesFreed.sum();
+        return bytesAllocated.sum() - freed;
+    }
+
+    /** Returns the number of allocations that requested huge pages. */
+    public long getHugePageRequests() { return hugePageRequests.sum(); }
+    /** Returns the number of huge page requests that were ignored, because huge pages are not supported or have been disabled. */
+    public long getHugePageFallbacks() { return hugePageFallbacks.sum(); }
+    /** Returns the number of allocations that requested a NUMA node. */
+    public long getNUMARequests() { return numaRequests.sum(); }
+    /** Returns the number of NUMA requests that were ignored, because NUMA policies are not supported. */
+    public long getNUMAFallbacks() { return numaFallbacks.sum(); }
+
+    /**
+     * Returns the number of bytes of live allocations that are currently backed by huge pages.
+     *
+     * <p>This method is expensive, it reads the memory map of the process from {@code /proc/self/smaps}. It returns 0 on platforms other than Linux.</p>
+     */
+    public long getHugePageBytes() { return LargePages.getHugePageBytes(); }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "large pages: %d allocations, %d frees, %d bytes live, %d/%d huge page fallbacks, %d/%d NUMA fallbacks",
+            getAllocationCount(), getFreeCount(), getBytesLive(),
+            getHugePageFallbacks(), getHugePageRequests(),
+            getNUMAFallbacks(), getNUMARequests()
+        );
+    }
+
+}
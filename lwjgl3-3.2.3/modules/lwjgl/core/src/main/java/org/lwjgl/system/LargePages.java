@@ -0,0 +1,246 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.*;
+import org.lwjgl.system.linux.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.Pointer.*;
+
+/** Implementation of the large allocation API in {@link MemoryUtil}. */
+final class LargePages {
+
+    /** The transparent huge page size, or 0 if transparent huge pages are not available. */
+    static final long HUGE_PAGE_SIZE = getHugePageSize();
+
+    /** Maps the address of each live allocation to its size. */
+    private static final ConcurrentMap<Long, Long> ALLOCATIONS = new ConcurrentHashMap<>();
+
+    private LargePages() {
+    }
+
+    private static long getHugePageSize() {
+        if (Platform.get() != Platform.LINUX) {
+            return 0L;
+        }
+
+        try {
+            Path thp = Paths.get("/sys/kernel/mm/transparent_hugepage");
+
+            // "always [madvise] never"
+            if (new String(Files.readAllBytes(thp.resolve("enabled")), StandardCharsets.US_ASCII).contains("[never]")) {
+                apiLog("Transparent huge pages have been disabled.");
+                return 0L;
+            }
+
+            Path size = thp.resolve("hpage_pmd_size");
+            return Files.exists(size)
+                ? Long.parseLong(new String(Files.readAllBytes(size), StandardCharsets.US_ASCII).trim())
+                : 2L * 1024L * 1024L;
+        } catch (IOException | NumberFormatException e) {
+            apiLog("Transparent huge pages are not available: " + e);
+            return 0L;
+        }
+    }
+
+    static long alloc(long size, int flags, int node) {
+        if (size <= 0L) {
+            return NULL;
+        }
+
+        boolean hugePages = (flags & MEM_HUGE_PAGES) != 0;
+
+        long address, mappedSize;
+        if (Platform.get() == Platform.LINUX) {
+            long alignment = hugePages && HUGE_PAGE_SIZE != 0L ? HUGE_PAGE_SIZE : PAGE_SIZE;
+
+            mappedSize = (size + alignment - 1L) & -alignment;
+            address = mapAligned(mappedSize, alignment);
+            if (address == NULL) {
+                return NULL;
+            }
+
+            // Must be applied before the pages are touched
+            if (hugePages) {
+                LargePageStats.INSTANCE.onHugePageRequest(HUGE_PAGE_SIZE == 0L || MMAN.madvise(address, mappedSize, MMAN.MADV_HUGEPAGE) != 0);
+            }
+            if (node != MEM_NUMA_NODE_ANY) {
+                LargePageStats.INSTANCE.onNUMARequest(!bind(address, mappedSize, node));
+            }
+
+            if ((flags & MEM_PREFAULT) != 0 && MMAN.madvise(address, mappedSize, MMAN.MADV_POPULATE_WRITE) != 0) {
+                // MADV_POPULATE_WRITE requires Linux 5.14
+                touch(address, mappedSize);
+            }
+        } else {
+            mappedSize = (size + PAGE_SIZE - 1L) & -(long)PAGE_SIZE;
+            address = nmemAlignedAlloc(PAGE_SIZE, mappedSize);
+            if (address == NULL) {
+                return NULL;
+            }
+
+            if (hugePages) {
+                LargePageStats.INSTANCE.onHugePageRequest(true);
+            }
+            if (node != MEM_NUMA_NODE_ANY) {
+                LargePageStats.INSTANCE.onNUMARequest(true);
+            }
+
+            if ((flags & MEM_PREFAULT) != 0) {
+                touch(address, mappedSize);
+            }
+        }
+
+        ALLOCATIONS.put(address, mappedSize);
+        LargePageStats.INSTANCE.onAlloc(mappedSize);
+
+        return address;
+    }
+
+    private static long mapAligned(long size, long alignment) {
+        // Over-allocate and trim, so that the mapping starts at a huge page boundary
+        long reserve = alignment == PAGE_SIZE ? size : size + alignment;
+
+        long base = MMAN.mmap(NULL, reserve, MMAN.PROT_READ | MMAN.PROT_WRITE, MMAN.MAP_PRIVATE | MMAN.MAP_ANONYMOUS, -1, 0L);
+        if (base == MMAN.MAP_FAILED) {
+            return NULL;
+        }
+
+        long address = (base + alignment - 1L) & -alignment;
+        if (address != base) {
+            MMAN.munmap(base, address - base);
+        }
+
+        long tail = base + reserve - (address + size);
+        if (tail != 0L) {
+            MMAN.munmap(address + size, tail);
+        }
+
+        return address;
+    }
+
+    private static boolean bind(long address, long size, int node) {
+        int bits = CLONG_SIZE * 8;
+        try (MemoryStack stack = stackPush()) {
+            CLongBuffer nodemask = stack.callocCLong(node / bits + 1);
+            nodemask.put(node / bits, 1L << (node % bits));
+
+            // MPOL_PREFERRED falls back to other nodes if the preferred node runs out of memory
+            return MMAN.mbind(address, size, MMAN.MPOL_PREFERRED, nodemask, (long)nodemask.remaining() * bits + 1L, 0) == 0L;
+        }
+    }
+
+    private static void touch(long address, long size) {
+        for (long offset = 0L; offset < size; offset += PAGE_SIZE) {
+            memPutByte(address + offset, (byte)0);
+        }
+    }
+
+    static void free(long address) {
+        if (address == NULL) {
+            return;
+        }
+
+        Long size = ALLOCATIONS.remove(address);
+        if (size == null) {
+            throw new IllegalArgumentException("The address has not been allocated with memAllocLarge: 0x" + Long.toHexString(address));
+        }
+
+        if (Platform.get() == Platform.LINUX) {
+            MMAN.munmap(address, size);
+        } else {
+            nmemAlignedFree(address);
+        }
+
+        LargePageStats.INSTANCE.onFree(size);
+    }
+
+    static long getHugePageBytes(long address, long size) {
+        return getHugePageBytes(new long[] {address}, new long[] {address + size});
+    }
+
+    static long getHugePageBytes() {
+        List<Map.Entry<Long, Long>> allocations = new ArrayList<>(ALLOCATIONS.entrySet());
+
+        long[] starts = new long[allocations.size()];
+        long[] ends   = new long[allocations.size()];
+        for (int i = 0; i < starts.length; i++) {
+            Map.Entry<Long, Long> allocation = allocations.get(i);
+
+            starts[i] = allocation.getKey();
+            ends[i] = starts[i] + allocation.getValue();
+        }
+
+        return getHugePageBytes(starts, ends);
+    }
+
+    private static long getHugePageBytes(long[] starts, long[] ends) {
+        if (Platform.get() != Platform.LINUX || starts.length == 0) {
+            return 0L;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get("/proc/self/smaps"), StandardCharsets.US_ASCII)) {
+            return getHugePageBytes(reader, starts, ends);
+        } catch (IOException e) {
+            apiLog("Failed to read /proc/self/smaps: " + e);
+            return 0L;
+        }
+    }
+
+    /**
+     * Sums the {@code AnonHugePages} of the mappings that overlap the specified address ranges.
+     *
+     * <p>A mapping may contain more than one allocation, or memory that does not belong to any allocation. The huge page bytes of each mapping are clamped
+     * to the size of the overlapping ranges, but they are otherwise not attributed precisely.</p>
+     */
+    static long getHugePageBytes(BufferedReader smaps, long[] starts, long[] ends) throws IOException {
+        long total = 0L;
+
+        long overlap = 0L;
+
+        String line;
+        while ((line = smaps.readLine()) != null) {
+            if (line.startsWith("AnonHugePages:")) {
+                if (overlap != 0L) {
+                    // "AnonHugePages:      2048 kB"
+                    String kB = line.substring("AnonHugePages:".length(), line.length() - "kB".length()).trim();
+                    total += Math.min(Long.parseLong(kB) * 1024L, overlap);
+                }
+                continue;
+            }
+
+            // "7f0000000000-7f0000200000 rw-p 00000000 00:00 0"
+            int dash  = line.indexOf('-');
+            int space = line.indexOf(' ');
+            if (dash <= 0 || space <= dash || Character.digit(line.charAt(0), 16) < 0 || Character.isUpperCase(line.charAt(0))) {
+                continue;
+            }
+
+            long start = Long.parseUnsignedLong(line.substring(0, dash), 16);
+            long end   = Long.parseUnsignedLong(line.substring(dash + 1, space), 16);
+
+            overlap = 0L;
+            for (int i = 0; i < starts.length; i++) {
+                long from = Math.max(start, starts[i]);
+                long to   = Math.min(end, ends[i]);
+                if (from < to) {
+                    overlap += to - from;
+                }
+            }
+        }
+
+        return total;
+    }
+
+}
@@ -14,6 +14,7 @@ import java.nio.channels.*;
 import java.nio.file.*;
 import java.security.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.regex.*;
 
@@ -37,6 +38,9 @@ public final class Library {
 
     private static final Pattern NATIVES_JAR = Pattern.compile("/[\\w-]+?-natives-\\w+.jar!/");
 
+    /** The total time spent loading libraries, only updated when {@link Configuration#DEBUG_LOADER} is enabled. */
+    private static final AtomicLong LOAD_TIME = new AtomicLong();
+
     static {
         if (DEBUG) {
             apiLog("Version: " + Version.getVersion());
@@ -82,6 +86,22 @@ public final class Library {
         Class<?> context,
         String module,
         String name
+    ) throws UnsatisfiedLinkError {
+        long t0 = System.nanoTime();
+        try {
+            loadSystemImpl(load, loadLibrary, context, module, name);
+        } finally {
+            logLoadTime(t0);
+        }
+    }
+
+    @SuppressWarnings("try")
+    private static void loadSystemImpl(
+        Consumer<String> load,
+        Consumer<String> loadLibrary,
+        Class<?> context,
+        String module,
+        String name
     ) throws UnsatisfiedLinkError {
         apiLog("Loading JNI library: " + name);
         apiLog("\tModule: " + module);
@@ -222,8 +242,17 @@ public final class Library {
         return loadNative(context, module, name, bundledWithLWJGL, true);
     }
 
-    @SuppressWarnings("try")
     private static SharedLibrary loadNative(Class<?> context, String module, String name, boolean bundledWithLWJGL, boolean printError) {
+        long t0 = System.nanoTime();
+        try {
+            return loadNativeImpl(context, module, name, bundledWithLWJGL, printError);
+        } finally {
+            logLoadTime(t0);
+        }
+    }
+
+    @SuppressWarnings("try")
+    private static SharedLibrary loadNativeImpl(Class<?> context, String module, String name, boolean bundledWithLWJGL, boolean printError) {
         apiLog("Loading library: " + name);
         apiLog("\tModule: " + module);
 
@@ -423,6 +452,13 @@ public final class Library {
         }
     }
 
+    private static void logLoadTime(long t0) {
+        if (Configuration.DEBUG_LOADER.get(false)) {
+            long t = System.nanoTime() - t0;
+            apiLog(String.format("\tLoad time: %.2f ms (total: %.2f ms)", t / 1e6, LOAD_TIME.addAndGet(t) / 1e6));
+        }
+    }
+
     private static String getBundledPath(String module, String resource) {
         return Platform.mapLibraryPathBundled(module.replace('.', '/') + "/" + resource);
     }
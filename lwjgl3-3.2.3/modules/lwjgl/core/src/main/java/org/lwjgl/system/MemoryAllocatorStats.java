@@ -0,0 +1,175 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.APIUtil.*;
+
+/**
+ * Live statistics of a {@link MemoryUtil.MemoryAllocator MemoryAllocator}, collected when {@link Configuration#MEMORY_ALLOCATOR_STATS} is enabled. Each
+ * allocator has its own instance, see {@link MemoryUtil#memStats(String)}.
+ *
+ * <p>The counters are kept in striped cells, so updating them is cheap and scales with the number of threads that allocate concurrently. Reading them is
+ * more expensive and the values returned are not an atomic snapshot.</p>
+ *
+ * <p>Byte counts use the requested size of each block, or its usable size if {@link Configuration#MEMORY_ALLOCATOR_STATS_USABLE_SIZE} is enabled and the
+ * allocator can report it.</p>
+ *
+ * @see MemoryUtil#memStats()
+ */
+public final class MemoryAllocatorStats implements MemoryAllocatorStatsMBean {
+
+    /** The number of size classes in the allocation histogram. */
+    public static final int HISTOGRAM_BUCKETS = 16;
+
+    private static final ConcurrentMap<String, MemoryAllocatorStats> STATS = new ConcurrentHashMap<>();
+
+    private final String allocator;
+
+    private final boolean usableSize;
+
+    private final LongAdder allocations    = new LongAdder();
+    private final LongAdder frees          = new LongAdder();
+    private final LongAdder bytesAllocated = new LongAdder();
+    private final LongAdder bytesFreed     = new LongAdder();
+
+    private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+    private MemoryAllocatorStats(String allocator, boolean usableSize) {
+        this.allocator = allocator;
+        this.usableSize = usableSize;
+
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    static MemoryAllocatorStats create(String allocator, boolean usableSize) {
+        MemoryAllocatorStats stats = new MemoryAllocatorStats(allocator, usableSize);
+        if (STATS.putIfAbsent(allocator, stats) != null) {
+            throw new IllegalStateException("Statistics for this allocator have already been created: " + allocator);
+        }
+
+        try {
+            java.lang.management.ManagementFactory.getPlatformMBeanServer().registerMBean(stats, getObjectName(allocator));
+        } catch (Throwable t) {
+            apiLog("Failed to register the memory allocator statistics MBean: " + t);
+        }
+
+        return stats;
+    }
+
+    private static javax.management.ObjectName getObjectName(String allocator) throws javax.management.MalformedObjectNameException {
+        return new javax.management.ObjectName("org.lwjgl:type=MemoryAllocatorStats,allocator=" + javax.management.ObjectName.quote(allocator));
+    }
+
+    /** Removes these statistics and unregisters their MBean. A new instance may be created for the same allocator afterwards. */
+    void unregister() {
+        if (!STATS.remove(allocator, this)) {
+            return;
+        }
+
+        try {
+            java.lang.management.ManagementFactory.getPlatformMBeanServer().unregisterMBean(getObjectName(allocator));
+        } catch (Throwable t) {
+            apiLog("Failed to unregister the memory allocator statistics MBean: " + t);
+        }
+    }
+
+    /**
+     * Returns the statistics of the specified allocator.
+     *
+     * @param allocator the allocator name, e.g. {@code "jemalloc"}
+     *
+     * @return the statistics or {@code null}, if statistics are not collected for that allocator
+     */
+    @Nullable
+    static MemoryAllocatorStats get(String allocator) {
+        return STATS.get(allocator);
+    }
+
+    /** Returns the statistics of all allocators. */
+    static Collection<MemoryAllocatorStats> getAll() {
+        return Collections.unmodifiableCollection(STATS.values());
+    }
+
+    /**
+     * Returns the upper size limit, in bytes, of allocations counted in the specified histogram bucket.
+     *
+     * <p>Bucket 0 counts allocations of up to 16 bytes, each following bucket doubles the limit and the last bucket counts everything else.</p>
+     *
+     * @param bucket the bucket index
+     */
+    public static long getHistogramBucketLimit(int bucket) {
+        return bucket < HISTOGRAM_BUCKETS - 1 ? 16L << bucket : Long.MAX_VALUE;
+    }
+
+    private static int getHistogramBucket(long size) {
+        if (size <= 16L) {
+            return 0;
+        }
+        return Math.min(HISTOGRAM_BUCKETS - 1, 60 - Long.numberOfLeadingZeros(size - 1L));
+    }
+
+    boolean isUsableSize() {
+        return usableSize;
+    }
+
+    void onAlloc(long requested, long size) {
+        allocations.increment();
+        bytesAllocated.add(size);
+        histogram[getHistogramBucket(requested)].increment();
+    }
+
+    void onFree(long size) {
+        frees.increment();
+        bytesFreed.add(size);
+    }
+
+    void onRealloc(long oldSize, long requested, long size) {
+        bytesFreed.add(oldSize);
+        bytesAllocated.add(size);
+        histogram[getHistogramBucket(requested)].increment();
+    }
+
+    @Override public String getAllocator() { return allocator; }
+
+    @Override public long getAllocationCount() { return allocations.sum(); }
+    @Override public long getFreeCount() { return frees.sum(); }
+    @Override public long getLiveAllocationCount() {
+        // read frees first, to avoid negative values
+        long frees = this.frees.sum();
+        return allocations.sum() - frees;
+    }
+
+    @Override public long getBytesAllocated() { return bytesAllocated.sum(); }
+    @Override public long getBytesFreed() { return bytesFreed.sum(); }
+    @Override public long getBytesLive() {
+        long freed = bytesFreed.sum();
+        return bytesAllocated.sum() - freed;
+    }
+
+    @Override
+    public long[] getHistogram() {
+        long[] counts = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s: %d allocations, %d frees, %d bytes allocated, %d bytes live",
+            allocator, getAllocationCount(), getFreeCount(), getBytesAllocated(), getBytesLive()
+        );
+    }
+
+}
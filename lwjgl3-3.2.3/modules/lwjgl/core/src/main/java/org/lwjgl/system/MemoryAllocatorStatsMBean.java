@@ -0,0 +1,38 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+/**
+ * The JMX management interface of {@link MemoryAllocatorStats}.
+ *
+ * <p>Instances are registered with the platform MBean server under the {@code org.lwjgl:type=MemoryAllocatorStats,allocator=<name>} object name.</p>
+ */
+public interface MemoryAllocatorStatsMBean {
+
+    /** Returns the allocator name. */
+    String getAllocator();
+
+    /** Returns the number of allocations. */
+    long getAllocationCount();
+
+    /** Returns the number of deallocations. */
+    long getFreeCount();
+
+    /** Returns the number of allocations that have not been freed yet. */
+    long getLiveAllocationCount();
+
+    /** Returns the number of bytes allocated. */
+    long getBytesAllocated();
+
+    /** Returns the number of bytes freed. */
+    long getBytesFreed();
+
+    /** Returns the number of bytes currently allocated. */
+    long getBytesLive();
+
+    /** Returns the number of allocations per size class. See {@link MemoryAllocatorStats#getHistogramBucketLimit}. */
+    long[] getHistogram();
+
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.*;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.Pointer.*;
+
+/**
+ * An off-heap memory arena.
+ *
+ * <p>Allocations are served from a list of memory blocks, by bumping a pointer in the current block. Individual allocations cannot be freed. Instead, all
+ * allocations are released at once with {@link #reset}, or all allocations made after a {@link #checkpoint} with {@link #rewind}. Both operations are
+ * O(1) and keep the blocks for reuse. The blocks are returned to the {@link MemoryUtil} allocator when the arena is {@link #free freed}.</p>
+ *
+ * <p>Unlike {@link MemoryStack}, an arena is not bound to a thread and its capacity is not fixed; a new block is allocated whenever the current one is
+ * exhausted. This makes it suitable for frame-scoped or request-scoped data that may be handed off between threads. An arena is not thread-safe though: it
+ * must be used by a single thread at a time and ownership must be transferred with proper synchronization (e.g. via a {@code BlockingQueue} or an
+ * {@code ExecutorService}).</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre><code>
+ * try (MemoryArena arena = MemoryArena.create()) {
+ *     for (Frame frame : frames) {
+ *         IntBuffer       ids   = arena.mallocInt(frame.count());
+ *         VkRect2D.Buffer rects = VkRect2D.calloc(frame.count(), arena);
+ *         // ...
+ *         arena.reset();
+ *     }
+ * }</code></pre>
+ *
+ * @see MemoryStack
+ */
+public class MemoryArena implements NativeResource {
+
+    private static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private static final int  BLOCK_SHIFT       = 40;
+    private static final long BLOCK_OFFSET_MASK = (1L << BLOCK_SHIFT) - 1L;
+
+    private final long blockSize;
+
+    private long[] blocks;
+    private long[] blockSizes;
+    private int    blockCount;
+
+    // The index of the current block, -1 if no block has been used yet.
+    private int  blockIndex;
+    private long cursor;
+    private long limit;
+
+    /**
+     * Creates a new {@code MemoryArena} with the specified block size.
+     *
+     * @param blockSize the size of each memory block. Allocations larger than this value are served from dedicated blocks.
+     */
+    protected MemoryArena(long blockSize) {
+        if (blockSize <= 0L || BLOCK_OFFSET_MASK < blockSize) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.blockSize = blockSize;
+
+        this.blocks = new long[4];
+        this.blockSizes = new long[4];
+
+        this.blockIndex = -1;
+    }
+
+    /**
+     * Creates a new {@code MemoryArena} with the default block size.
+     *
+     * <p>No memory is allocated until the first allocation is made.</p>
+     */
+    public static MemoryArena create() {
+        return new MemoryArena(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a new {@code MemoryArena} with the specified block size.
+     *
+     * <p>No memory is allocated until the first allocation is made.</p>
+     *
+     * @param blockSize the size of each memory block. Allocations larger than this value are served from dedicated blocks.
+     */
+    public static MemoryArena create(long blockSize) {
+        return new MemoryArena(blockSize);
+    }
+
+    /** Returns the size of the memory blocks allocated by this arena. */
+    public long getBlockSize() {
+        return blockSize;
+    }
+
+    /** Returns the total size of the memory blocks currently owned by this arena. */
+    public long getCapacity() {
+        long capacity = 0L;
+        for (int i = 0; i < blockCount; i++) {
+            capacity += blockSizes[i];
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the current allocation position.
+     *
+     * <p>The returned value can be passed to {@link #rewind} to release all allocations made after this call, while keeping allocations made before it.
+     * Checkpoints may be nested, but must be rewound in LIFO order; rewinding to a checkpoint invalidates all checkpoints taken after it.</p>
+     */
+    public long checkpoint() {
+        return blockIndex < 0 ? 0L : ((long)blockIndex << BLOCK_SHIFT) | (cursor - blocks[blockIndex]);
+    }
+
+    /**
+     * Releases all allocations made after the specified checkpoint.
+     *
+     * <p>Memory allocated after the checkpoint must not be used after this method returns.</p>
+     *
+     * @param checkpoint a value returned by {@link #checkpoint}
+     */
+    public void rewind(long checkpoint) {
+        if (CHECKS && (checkpoint < 0L || checkpoint() < checkpoint)) {
+            throw new IllegalArgumentException("Invalid arena checkpoint");
+        }
+
+        if (blockCount == 0) {
+            return;
+        }
+
+        int  index  = (int)(checkpoint >>> BLOCK_SHIFT);
+        long offset = checkpoint & BLOCK_OFFSET_MASK;
+
+        blockIndex = index;
+        cursor = blocks[index] + offset;
+        limit = blocks[index] + blockSizes[index];
+    }
+
+    /**
+     * Releases all allocations made with this arena.
+     *
+     * <p>The memory blocks are kept for reuse. Memory allocated by this arena must not be used after this method returns.</p>
+     */
+    public void reset() {
+        rewind(0L);
+    }
+
+    /** Releases all allocations made with this arena and frees its memory blocks. The arena may still be used after this method returns. */
+    @Override
+    public void free() {
+        for (int i = 0; i < blockCount; i++) {
+            nmemFree(blocks[i]);
+            blocks[i] = NULL;
+        }
+        blockCount = 0;
+
+        blockIndex = -1;
+        cursor = NULL;
+        limit = NULL;
+    }
+
+    private static void checkAlignment(int alignment) {
+        if (Integer.bitCount(alignment) != 1) {
+            throw new IllegalArgumentException("Alignment must be a power-of-two value.");
+        }
+    }
+
+    /**
+     * Calls {@link #nmalloc(int, long)} with {@code alignment} equal to 1.
+     *
+     * @param size the allocation size
+     *
+     * @return the memory address in the arena for the requested allocation
+     */
+    public long nmalloc(long size) {
+        return nmalloc(1, size);
+    }
+
+    /**
+     * Allocates a block of {@code size} bytes of memory in the arena. The content of the newly allocated block of memory is not initialized, remaining with
+     * indeterminate values.
+     *
+     * @param alignment the required alignment
+     * @param size      the allocation size
+     *
+     * @return the memory address in the arena for the requested allocation
+     */
+    public long nmalloc(int alignment, long size) {
+        long mask = Integer.toUnsignedLong(alignment - 1);
+
+        long address = (cursor + mask) & ~mask;
+        if (size < 0L || limit - address < size || cursor == NULL) {
+            return nmallocBlock(mask, size);
+        }
+
+        cursor = address + size;
+        return address;
+    }
+
+    private long nmallocBlock(long mask, long size) {
+        if (size < 0L) {
+            throw new IllegalArgumentException("Invalid allocation size: " + size);
+        }
+
+        long minimumSize = size + mask;
+
+        // Move to the next block, replacing it if it is too small for this allocation
+        int index = blockIndex + 1;
+        if (index < blockCount) {
+            if (blockSizes[index] < minimumSize) {
+                nmemFree(blocks[index]);
+                allocateBlock(index, minimumSize);
+            }
+        } else {
+            if (blockCount == blocks.length) {
+                blocks = Arrays.copyOf(blocks, blockCount * 2);
+                blockSizes = Arrays.copyOf(blockSizes, blockCount * 2);
+            }
+            allocateBlock(index, minimumSize);
+            blockCount++;
+        }
+
+        long block = blocks[index];
+
+        blockIndex = index;
+        limit = block + blockSizes[index];
+
+        long address = (block + mask) & ~mask;
+        cursor = address + size;
+        return address;
+    }
+
+    private void allocateBlock(int index, long minimumSize) {
+        long size = Math.max(blockSize, minimumSize);
+        if (BLOCK_OFFSET_MASK < size) {
+            throw new OutOfMemoryError("Arena allocation too large: " + minimumSize);
+        }
+
+        blocks[index] = nmemAllocChecked(size);
+        blockSizes[index] = size;
+    }
+
+    /**
+     * Allocates a block of memory in the arena for an array of {@code num} elements, each of them {@code size} bytes long, and initializes all its bits to
+     * zero.
+     *
+     * @param alignment the required element alignment
+     * @param num       the number of elements to allocate
+     * @param size      the size of each element
+     *
+     * @return the memory address in the arena for the requested allocation
+     *
+     * @throws IllegalArgumentException if {@code num} or {@code size} is negative, or if {@code num * size} overflows
+     */
+    public long ncalloc(int alignment, long num, long size) {
+        if (CHECKS) {
+            checkCallocSize(num, size);
+        }
+
+        long bytes   = num * size;
+        long address = nmalloc(alignment, bytes);
+        memSet(address, 0, bytes);
+        return address;
+    }
+
+    private static void checkCallocSize(long num, long size) {
+        if ((num | size) < 0L || (size != 0L && Long.MAX_VALUE / size < num)) {
+            throw new IllegalArgumentException("Invalid allocation size: " + num + " * " + size);
+        }
+    }
+
+    // -------------------------------------------------
+
+    /**
+     * Allocates an aligned {@link ByteBuffer} in the arena.
+     *
+     * @param alignment the required buffer alignment
+     * @param size      the number of elements in the buffer
+     *
+     * @return the allocated buffer
+     */
+    public ByteBuffer malloc(int alignment, int size) {
+        if (DEBUG) {
+            checkAlignment(alignment);
+        }
+        return MemoryUtil.wrap(BUFFER_BYTE, nmalloc(alignment, size), size).order(NATIVE_ORDER);
+    }
+    /** Calloc version of {@link #malloc(int, int)}. */
+    public ByteBuffer calloc(int alignment, int size) {
+        if (DEBUG) {
+            checkAlignment(alignment);
+        }
+        return MemoryUtil.wrap(BUFFER_BYTE, ncalloc(alignment, size, 1), size).order(NATIVE_ORDER);
+    }
+
+    /**
+     * Allocates a {@link ByteBuffer} in the arena.
+     *
+     * @param size the number of elements in the buffer
+     *
+     * @return the allocated buffer
+     */
+    public ByteBuffer malloc(int size) { return malloc(1, size); }
+    /** Calloc version of {@link #malloc(int)}. */
+    public ByteBuffer calloc(int size) { return calloc(1, size); }
+
+    /** Short version of {@link #malloc(int)}. */
+    public ShortBuffer mallocShort(int size) { return MemoryUtil.wrap(BUFFER_SHORT, nmalloc(2, Integer.toUnsignedLong(size) << 1), size); }
+    /** Short version of {@link #calloc(int)}. */
+    public ShortBuffer callocShort(int size) { return MemoryUtil.wrap(BUFFER_SHORT, ncalloc(2, size, 2), size); }
+
+    /** Int version of {@link #malloc(int)}. */
+    public IntBuffer mallocInt(int size) { return MemoryUtil.wrap(BUFFER_INT, nmalloc(4, Integer.toUnsignedLong(size) << 2), size); }
+    /** Int version of {@link #calloc(int)}. */
+    public IntBuffer callocInt(int size) { return MemoryUtil.wrap(BUFFER_INT, ncalloc(4, size, 4), size); }
+
+    /** Long version of {@link #malloc(int)}. */
+    public LongBuffer mallocLong(int size) { return MemoryUtil.wrap(BUFFER_LONG, nmalloc(8, Integer.toUnsignedLong(size) << 3), size); }
+    /** Long version of {@link #calloc(int)}. */
+    public LongBuffer callocLong(int size) { return MemoryUtil.wrap(BUFFER_LONG, ncalloc(8, size, 8), size); }
+
+    /** {@code CLong} version of {@link #malloc(int)}. */
+    public CLongBuffer mallocCLong(int size) { return memCLongBuffer(nmalloc(CLONG_SIZE, Integer.toUnsignedLong(size) << CLONG_SHIFT), size); }
+    /** {@code CLong} version of {@link #calloc(int)}. */
+    public CLongBuffer callocCLong(int size) { return memCLongBuffer(ncalloc(CLONG_SIZE, size, CLONG_SIZE), size); }
+
+    /** Float version of {@link #malloc(int)}. */
+    public FloatBuffer mallocFloat(int size) { return MemoryUtil.wrap(BUFFER_FLOAT, nmalloc(4, Integer.toUnsignedLong(size) << 2), size); }
+    /** Float version of {@link #calloc(int)}. */
+    public FloatBuffer callocFloat(int size) { return MemoryUtil.wrap(BUFFER_FLOAT, ncalloc(4, size, 4), size); }
+
+    /** Double version of {@link #malloc(int)}. */
+    public DoubleBuffer mallocDouble(int size) { return MemoryUtil.wrap(BUFFER_DOUBLE, nmalloc(8, Integer.toUnsignedLong(size) << 3), size); }
+    /** Double version of {@link #calloc(int)}. */
+    public DoubleBuffer callocDouble(int size) { return MemoryUtil.wrap(BUFFER_DOUBLE, ncalloc(8, size, 8), size); }
+
+    /** Pointer version of {@link #malloc(int)}. */
+    public PointerBuffer mallocPointer(int size) { return memPointerBuffer(nmalloc(POINTER_SIZE, Integer.toUnsignedLong(size) << POINTER_SHIFT), size); }
+    /** Pointer version of {@link #calloc(int)}. */
+    public PointerBuffer callocPointer(int size) { return memPointerBuffer(ncalloc(POINTER_SIZE, size, POINTER_SIZE), size); }
+
+    // -------------------------------------------------
+
+    /**
+     * Encodes the specified text in the arena using ASCII encoding and returns a ByteBuffer that points to the encoded text, including a null-terminator.
+     *
+     * @param text the text to encode
+     */
+    public ByteBuffer ASCII(CharSequence text) {
+        return ASCII(text, true);
+    }
+
+    /**
+     * Encodes the specified text in the arena using ASCII encoding and returns a ByteBuffer that points to the encoded text.
+     *
+     * @param text           the text to encode
+     * @param nullTerminated if true, a null-terminator is included at the end of the encoded text
+     */
+    public ByteBuffer ASCII(CharSequence text, boolean nullTerminated) {
+        int  length = memLengthASCII(text, nullTerminated);
+        long target = nmalloc(1, length);
+        encodeASCII(text, nullTerminated, target);
+        return MemoryUtil.wrap(BUFFER_BYTE, target, length).order(NATIVE_ORDER);
+    }
+
+    /** Like {@link #ASCII(CharSequence) ASCII}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer ASCIISafe(@Nullable CharSequence text) {
+        return ASCIISafe(text, true);
+    }
+
+    /** Like {@link #ASCII(CharSequence, boolean) ASCII}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer ASCIISafe(@Nullable CharSequence text, boolean nullTerminated) {
+        return text == null ? null : ASCII(text, nullTerminated);
+    }
+
+    /**
+     * Encodes the specified text in the arena using UTF8 encoding and returns a ByteBuffer that points to the encoded text, including a null-terminator.
+     *
+     * @param text the text to encode
+     */
+    public ByteBuffer UTF8(CharSequence text) {
+        return UTF8(text, true);
+    }
+
+    /**
+     * Encodes the specified text in the arena using UTF8 encoding and returns a ByteBuffer that points to the encoded text.
+     *
+     * @param text           the text to encode
+     * @param nullTerminated if true, a null-terminator is included at the end of the encoded text
+     */
+    public ByteBuffer UTF8(CharSequence text, boolean nullTerminated) {
+        int  length = memLengthUTF8(text, nullTerminated);
+        long target = nmalloc(1, length);
+        encodeUTF8(text, nullTerminated, target);
+        return MemoryUtil.wrap(BUFFER_BYTE, target, length).order(NATIVE_ORDER);
+    }
+
+    /** Like {@link #UTF8(CharSequence) UTF8}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer UTF8Safe(@Nullable CharSequence text) {
+        return UTF8Safe(text, true);
+    }
+
+    /** Like {@link #UTF8(CharSequence, boolean) UTF8}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer UTF8Safe(@Nullable CharSequence text, boolean nullTerminated) {
+        return text == null ? null : UTF8(text, nullTerminated);
+    }
+
+    /**
+     * Encodes the specified text in the arena using UTF16 encoding and returns a ByteBuffer that points to the encoded text, including a null-terminator.
+     *
+     * @param text the text to encode
+     */
+    public ByteBuffer UTF16(CharSequence text) {
+        return UTF16(text, true);
+    }
+
+    /**
+     * Encodes the specified text in the arena using UTF16 encoding and returns a ByteBuffer that points to the encoded text.
+     *
+     * @param text           the text to encode
+     * @param nullTerminated if true, a null-terminator is included at the end of the encoded text
+     */
+    public ByteBuffer UTF16(CharSequence text, boolean nullTerminated) {
+        int  length = memLengthUTF16(text, nullTerminated);
+        long target = nmalloc(2, length);
+        encodeUTF16(text, nullTerminated, target);
+        return MemoryUtil.wrap(BUFFER_BYTE, target, length).order(NATIVE_ORDER);
+    }
+
+    /** Like {@link #UTF16(CharSequence) UTF16}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer UTF16Safe(@Nullable CharSequence text) {
+        return UTF16Safe(text, true);
+    }
+
+    /** Like {@link #UTF16(CharSequence, boolean) UTF16}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer UTF16Safe(@Nullable CharSequence text, boolean nullTerminated) {
+        return text == null ? null : UTF16(text, nullTerminated);
+    }
+
+}
@@ -4,6 +4,10 @@
  */
 package org.lwjgl.system;
 
+import org.lwjgl.system.collections.*;
+import org.lwjgl.system.linux.*;
+import org.lwjgl.system.macosx.*;
+
 import javax.annotation.*;
 import java.util.*;
 import java.util.Map.*;
@@ -28,6 +32,10 @@ final class MemoryManage {
             return (MemoryAllocator)allocator;
         }
 
+        if ("slab".equals(allocator)) {
+            return new SlabAllocator();
+        }
+
         if (!"system".equals(allocator)) {
             String className;
             if (allocator == null || "jemalloc".equals(allocator)) {
@@ -52,6 +60,124 @@ final class MemoryManage {
         return new StdlibAllocator();
     }
 
+    /** Returns the name of the specified allocator, as used in {@link Configuration#MEMORY_ALLOCATOR}. */
+    static String getName(MemoryAllocator allocator) {
+        if (allocator instanceof StdlibAllocator) {
+            return "system";
+        }
+        if (allocator instanceof SlabAllocator) {
+            return "slab";
+        }
+
+        String className = allocator.getClass().getName();
+        switch (className) {
+            case "org.lwjgl.system.jemalloc.JEmallocAllocator":
+                return "jemalloc";
+            case "org.lwjgl.system.rpmalloc.RPmallocAllocator":
+                return "rpmalloc";
+            default:
+                return className;
+        }
+    }
+
+    /** Returns the usable size of a memory block allocated by the system allocator, or -1 if not supported on the current platform. */
+    static long getSystemUsableSize(long ptr) {
+        long usableSize = UsableSize.FUNCTION;
+        return usableSize == NULL ? -1L : JNI.invokePP(ptr, usableSize);
+    }
+
+    private static final class UsableSize {
+
+        static final long FUNCTION;
+
+        static {
+            long function = NULL;
+            try {
+                switch (Platform.get()) {
+                    case LINUX:
+                        function = new LinuxLibrary("libc.so.6").getFunctionAddress("malloc_usable_size");
+                        break;
+                    case MACOSX:
+                        function = new MacOSXLibraryDL("/usr/lib/libSystem.B.dylib").getFunctionAddress("malloc_size");
+                        break;
+                    case WINDOWS:
+                        // _msize cannot be used with blocks allocated by _aligned_malloc
+                        break;
+                }
+            } catch (Throwable t) {
+                apiLog("Failed to load the system usable size function: " + t);
+            }
+            FUNCTION = function;
+        }
+
+        private UsableSize() {
+        }
+
+    }
+
+    /** Creates native callbacks that forward to the specified allocator, in {@code malloc, calloc, realloc, free, aligned_alloc, aligned_free} order. */
+    static long[] createCallbacks(MemoryAllocator allocator) {
+        return new long[] {
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(p)p";
+                }
+                @Override public long callback(long args) {
+                    long size = dcbArgPointer(args);
+                    return allocator.malloc(size);
+                }
+            }.address(),
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(pp)p";
+                }
+                @Override public long callback(long args) {
+                    long num  = dcbArgPointer(args);
+                    long size = dcbArgPointer(args);
+                    return allocator.calloc(num, size);
+                }
+            }.address(),
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(pp)p";
+                }
+                @Override public long callback(long args) {
+                    long ptr  = dcbArgPointer(args);
+                    long size = dcbArgPointer(args);
+                    return allocator.realloc(ptr, size);
+                }
+            }.address(),
+            new CallbackI.V() {
+                @Override public String getSignature() {
+                    return "(p)v";
+                }
+                @Override public void callback(long args) {
+                    long ptr = dcbArgPointer(args);
+                    allocator.free(ptr);
+                }
+            }.address(),
+            new CallbackI.P() {
+                @Override public String getSignature() {
+                    return "(pp)p";
+                }
+                @Override public long callback(long args) {
+                    long alignment = dcbArgPointer(args);
+                    long size      = dcbArgPointer(args);
+                    return allocator.aligned_alloc(alignment, size);
+                }
+            }.address(),
+            new CallbackI.V() {
+                @Override public String getSignature() {
+                    return "(p)v";
+                }
+                @Override public void callback(long args) {
+                    long ptr = dcbArgPointer(args);
+                    allocator.aligned_free(ptr);
+                }
+            }.address()
+        };
+    }
+
     /** stdlib memory allocator. */
     private static class StdlibAllocator implements MemoryAllocator {
 
@@ -69,6 +195,449 @@ final class MemoryManage {
         @Override public long aligned_alloc(long alignment, long size) { return naligned_alloc(alignment, size); }
         @Override public void aligned_free(long ptr)                   { naligned_free(ptr); }
 
+        @Override public long usable_size(long ptr)                    { return getSystemUsableSize(ptr); }
+
+    }
+
+    /**
+     * Wraps a MemoryAllocator to collect live allocation statistics.
+     *
+     * <p>The size of each live block is kept in an {@link DebugAllocator.AddressTable AddressTable}, so that bytes freed can be counted without asking the
+     * allocator.</p>
+     */
+    static class StatsAllocator implements MemoryAllocator {
+
+        private final MemoryAllocator allocator;
+
+        final MemoryAllocatorStats stats;
+
+        private final DebugAllocator.AddressTable sizes = new DebugAllocator.AddressTable();
+
+        StatsAllocator(MemoryAllocator allocator) {
+            this(allocator, getName(allocator), Configuration.MEMORY_ALLOCATOR_STATS_USABLE_SIZE.get(false));
+        }
+
+        StatsAllocator(MemoryAllocator allocator, String name, boolean usableSize) {
+            this.allocator = allocator;
+            this.stats = MemoryAllocatorStats.create(name, usableSize);
+        }
+
+        @Override public long getMalloc()       { return allocator.getMalloc(); }
+        @Override public long getCalloc()       { return allocator.getCalloc(); }
+        @Override public long getRealloc()      { return allocator.getRealloc(); }
+        @Override public long getFree()         { return allocator.getFree(); }
+        @Override public long getAlignedAlloc() { return allocator.getAlignedAlloc(); }
+        @Override public long getAlignedFree()  { return allocator.getAlignedFree(); }
+
+        private long track(long address, long requested) {
+            long size = requested;
+            if (stats.isUsableSize()) {
+                long usable = allocator.usable_size(address);
+                if (0L <= usable) {
+                    size = usable;
+                }
+            }
+            sizes.put(address, size);
+            return size;
+        }
+
+        // The block must be untracked before it is freed, the address may be reused by another thread immediately.
+        private long untrack(long address) {
+            long size = sizes.remove(address);
+            // 0 for blocks allocated before the statistics were created
+            return size < 0L ? 0L : size;
+        }
+
+        @Override
+        public long malloc(long size) {
+            long address = allocator.malloc(size);
+            if (address != NULL) {
+                stats.onAlloc(size, track(address, size));
+            }
+            return address;
+        }
+
+        @Override
+        public long calloc(long num, long size) {
+            long address = allocator.calloc(num, size);
+            if (address != NULL) {
+                stats.onAlloc(num * size, track(address, num * size));
+            }
+            return address;
+        }
+
+        @Override
+        public long realloc(long ptr, long size) {
+            if (ptr == NULL) {
+                return malloc(size);
+            }
+
+            long oldSize = untrack(ptr);
+            long address = allocator.realloc(ptr, size);
+            if (address != NULL) {
+                stats.onRealloc(oldSize, size, track(address, size));
+            } else if (size == 0L) {
+                stats.onFree(oldSize);
+            } else {
+                // failed, ptr is still valid
+                sizes.put(ptr, oldSize);
+            }
+            return address;
+        }
+
+        @Override
+        public void free(long ptr) {
+            if (ptr != NULL) {
+                stats.onFree(untrack(ptr));
+            }
+            allocator.free(ptr);
+        }
+
+        @Override
+        public long aligned_alloc(long alignment, long size) {
+            long address = allocator.aligned_alloc(alignment, size);
+            if (address != NULL) {
+                stats.onAlloc(size, track(address, size));
+            }
+            return address;
+        }
+
+        @Override
+        public void aligned_free(long ptr) {
+            if (ptr != NULL) {
+                stats.onFree(untrack(ptr));
+            }
+            allocator.aligned_free(ptr);
+        }
+
+        @Override
+        public long usable_size(long ptr) {
+            return allocator.usable_size(ptr);
+        }
+
+    }
+
+    /**
+     * A thread-caching, size-class slab allocator.
+     *
+     * <p>Blocks of up to {@link #MAX_SMALL_SIZE} bytes are served from per-thread magazines of fixed-size slots. Slots are carved from large regions that are
+     * allocated with the system {@code aligned_alloc}, aligned to their size, and are never returned to the system. A full magazine is handed to a shared
+     * depot, where other threads may pick it up. Bigger blocks are forwarded to the system allocator.</p>
+     *
+     * <p>Slots cached by a thread that terminates are not reclaimed.</p>
+     */
+    static class SlabAllocator implements MemoryAllocator {
+
+        private static final int  REGION_SHIFT = 20;
+        private static final long REGION_SIZE  = 1L << REGION_SHIFT;
+
+        /** The maximum block size, in bytes, served by the slab allocator. */
+        static final int MAX_SMALL_SIZE = 512;
+
+        private static final int[] CLASS_SIZES = { 16, 32, 48, 64, 96, 128, 192, 256, 384, 512 };
+
+        // Maps (size + 15) >>> 4 to the size class index.
+        private static final byte[] SIZE_CLASSES = new byte[(MAX_SMALL_SIZE >>> 4) + 1];
+
+        private static final int MAGAZINE_SIZE = 64;
+
+        static {
+            int c = 0;
+            for (int i = 0; i < SIZE_CLASSES.length; i++) {
+                while (CLASS_SIZES[c] < i << 4) {
+                    c++;
+                }
+                SIZE_CLASSES[i] = (byte)c;
+            }
+        }
+
+        private static final class SizeClass {
+
+            final int size;
+
+            // guarded by this
+            final ArrayDeque<long[]> full  = new ArrayDeque<>();
+            final ArrayDeque<long[]> empty = new ArrayDeque<>();
+
+            long cursor;
+            long limit;
+
+            SizeClass(int size) {
+                this.size = size;
+            }
+
+        }
+
+        private static final class Magazines {
+
+            final long[][] slots  = new long[CLASS_SIZES.length][MAGAZINE_SIZE];
+            final int[]    counts = new int[CLASS_SIZES.length];
+
+        }
+
+        /** Open-addressing set of region addresses, replaced on every insertion. */
+        private static final class Regions {
+
+            final long[] keys;
+            final byte[] classes;
+
+            final int mask;
+            final int count;
+
+            Regions(int capacity, int count) {
+                this.keys = new long[capacity];
+                this.classes = new byte[capacity];
+                this.mask = capacity - 1;
+                this.count = count;
+            }
+
+            static int hash(long region) {
+                return (int)(region >>> REGION_SHIFT) * 0x9E3779B9;
+            }
+
+            void put(long region, byte sizeClass) {
+                int i = hash(region) & mask;
+                while (keys[i] != NULL) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = region;
+                classes[i] = sizeClass;
+            }
+
+        }
+
+        private final SizeClass[] sizeClasses;
+
+        private final ThreadLocal<Magazines> magazines = ThreadLocal.withInitial(Magazines::new);
+
+        private volatile Regions regions = new Regions(16, 0);
+
+        private final long[] callbacks;
+
+        SlabAllocator() {
+            sizeClasses = new SizeClass[CLASS_SIZES.length];
+            for (int i = 0; i < sizeClasses.length; i++) {
+                sizeClasses[i] = new SizeClass(CLASS_SIZES[i]);
+            }
+
+            callbacks = createCallbacks(this);
+        }
+
+        @Override public long getMalloc()       { return callbacks[0]; }
+        @Override public long getCalloc()       { return callbacks[1]; }
+        @Override public long getRealloc()      { return callbacks[2]; }
+        @Override public long getFree()         { return callbacks[3]; }
+        @Override public long getAlignedAlloc() { return callbacks[4]; }
+        @Override public long getAlignedFree()  { return callbacks[5]; }
+
+        @Override
+        public long malloc(long size) {
+            if (size < 0L || MAX_SMALL_SIZE < size) {
+                return nmalloc(size);
+            }
+
+            int       c = SIZE_CLASSES[(int)(size + 15) >>> 4];
+            Magazines m = magazines.get();
+
+            int n = m.counts[c];
+            if (n == 0) {
+                n = refill(m, c);
+                if (n == 0) {
+                    return NULL;
+                }
+            }
+
+            m.counts[c] = --n;
+            return m.slots[c][n];
+        }
+
+        @Override
+        public long calloc(long num, long size) {
+            if (size != 0L && Long.compareUnsigned(Long.divideUnsigned(-1L, size), num) < 0) {
+                return NULL;
+            }
+
+            long bytes = num * size;
+            if (bytes < 0L || MAX_SMALL_SIZE < bytes) {
+                return ncalloc(num, size);
+            }
+
+            long address = malloc(bytes);
+            if (address != NULL && bytes != 0L) {
+                memSet(address, 0, bytes);
+            }
+            return address;
+        }
+
+        @Override
+        public long realloc(long ptr, long size) {
+            if (ptr == NULL) {
+                return malloc(size);
+            }
+
+            int c = sizeClassOf(ptr);
+            if (c < 0) {
+                if (size < 0L || MAX_SMALL_SIZE < size) {
+                    return nrealloc(ptr, size);
+                }
+                if (size == 0L) {
+                    nfree(ptr);
+                    return NULL;
+                }
+
+                long address = malloc(size);
+                if (address != NULL) {
+                    memCopy(ptr, address, size);
+                    nfree(ptr);
+                }
+                return address;
+            }
+
+            if (size == 0L) {
+                free(ptr);
+                return NULL;
+            }
+
+            int oldSize = CLASS_SIZES[c];
+            if (0L < size && size <= oldSize && (c == 0 || CLASS_SIZES[c - 1] < size)) {
+                return ptr;
+            }
+
+            long address = malloc(size);
+            if (address != NULL) {
+                memCopy(ptr, address, size < oldSize ? size : oldSize);
+                free(ptr);
+            }
+            return address;
+        }
+
+        @Override
+        public void free(long ptr) {
+            if (ptr == NULL) {
+                return;
+            }
+
+            int c = sizeClassOf(ptr);
+            if (c < 0) {
+                nfree(ptr);
+                return;
+            }
+
+            Magazines m = magazines.get();
+
+            int n = m.counts[c];
+            if (n == MAGAZINE_SIZE) {
+                m.slots[c] = flush(m.slots[c], c);
+                n = 0;
+            }
+
+            m.slots[c][n] = ptr;
+            m.counts[c] = n + 1;
+        }
+
+        @Override
+        public long aligned_alloc(long alignment, long size) {
+            // Slots are always aligned to 16 bytes.
+            if (alignment <= 16L && 0L <= size && size <= MAX_SMALL_SIZE) {
+                return malloc(size);
+            }
+            return naligned_alloc(alignment, size);
+        }
+
+        @Override
+        public void aligned_free(long ptr) {
+            if (ptr != NULL && sizeClassOf(ptr) < 0) {
+                naligned_free(ptr);
+            } else {
+                free(ptr);
+            }
+        }
+
+        @Override
+        public long usable_size(long ptr) {
+            int c = sizeClassOf(ptr);
+            return c < 0 ? getSystemUsableSize(ptr) : CLASS_SIZES[c];
+        }
+
+        /** Returns the size class index of the slot at the specified address, or -1 if the address was not allocated by this allocator. */
+        private int sizeClassOf(long address) {
+            long region = address & -REGION_SIZE;
+
+            Regions r = regions;
+
+            int i = Regions.hash(region) & r.mask;
+            for (long key; (key = r.keys[i]) != NULL; i = (i + 1) & r.mask) {
+                if (key == region) {
+                    return r.classes[i];
+                }
+            }
+            return -1;
+        }
+
+        private int refill(Magazines m, int c) {
+            SizeClass sc = sizeClasses[c];
+            synchronized (sc) {
+                long[] magazine = sc.full.poll();
+                if (magazine != null) {
+                    sc.empty.push(m.slots[c]);
+                    m.slots[c] = magazine;
+                    return MAGAZINE_SIZE;
+                }
+
+                long[] slots = m.slots[c];
+                int    n     = 0;
+                while (n < MAGAZINE_SIZE) {
+                    if (sc.cursor == sc.limit && !grow(sc, c)) {
+                        break;
+                    }
+                    slots[n++] = sc.cursor;
+                    sc.cursor += sc.size;
+                }
+                return n;
+            }
+        }
+
+        private long[] flush(long[] magazine, int c) {
+            SizeClass sc = sizeClasses[c];
+            synchronized (sc) {
+                sc.full.push(magazine);
+
+                long[] empty = sc.empty.poll();
+                return empty != null ? empty : new long[MAGAZINE_SIZE];
+            }
+        }
+
+        private boolean grow(SizeClass sc, int c) {
+            long region = naligned_alloc(REGION_SIZE, REGION_SIZE);
+            if (region == NULL) {
+                return false;
+            }
+
+            synchronized (this) {
+                Regions r = regions;
+
+                int count = r.count + 1;
+                int capacity = r.keys.length;
+                while (capacity < count * 2) {
+                    capacity <<= 1;
+                }
+
+                Regions updated = new Regions(capacity, count);
+                for (int i = 0; i < r.keys.length; i++) {
+                    if (r.keys[i] != NULL) {
+                        updated.put(r.keys[i], r.classes[i]);
+                    }
+                }
+                updated.put(region, (byte)c);
+
+                regions = updated;
+            }
+
+            sc.cursor = region;
+            sc.limit = region + (REGION_SIZE / sc.size) * sc.size;
+            return true;
+        }
+
     }
 
     /** Wraps a MemoryAllocator to track allocations and detect memory leaks. */
@@ -77,6 +646,14 @@ final class MemoryManage {
         private static final ConcurrentMap<Long, Allocation> ALLOCATIONS = new ConcurrentHashMap<>();
         private static final ConcurrentMap<Long, String>     THREADS     = new ConcurrentHashMap<>();
 
+        /** A stack trace is captured for 1 in {@code SAMPLE_RATE} allocations. */
+        private static final int  SAMPLE_RATE = Math.max(1, Configuration.DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE.get(1));
+        /** A stack trace is always captured for allocations of at least {@code SAMPLE_SIZE} bytes. */
+        private static final long SAMPLE_SIZE = Configuration.DEBUG_MEMORY_ALLOCATOR_SAMPLE_SIZE.get(0);
+
+        /** Allocations without a stack trace. Only used when {@code SAMPLE_RATE > 1}, or when tracked explicitly as unsampled. */
+        private static final AddressTable UNSAMPLED = new AddressTable();
+
         private final MemoryAllocator allocator;
 
         private final long[] callbacks;
@@ -84,71 +661,27 @@ final class MemoryManage {
         DebugAllocator(MemoryAllocator allocator) {
             this.allocator = allocator;
 
-            this.callbacks = new long[] {
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(p)p";
-                    }
-                    @Override public long callback(long args) {
-                        long size = dcbArgPointer(args);
-                        return malloc(size);
-                    }
-                }.address(),
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(pp)p";
-                    }
-                    @Override public long callback(long args) {
-                        long num  = dcbArgPointer(args);
-                        long size = dcbArgPointer(args);
-                        return calloc(num, size);
-                    }
-                }.address(),
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(pp)p";
-                    }
-                    @Override public long callback(long args) {
-                        long ptr  = dcbArgPointer(args);
-                        long size = dcbArgPointer(args);
-                        return realloc(ptr, size);
-                    }
-                }.address(),
-                new CallbackI.V() {
-                    @Override public String getSignature() {
-                        return "(p)v";
-                    }
-                    @Override public void callback(long args) {
-                        long ptr = dcbArgPointer(args);
-                        free(ptr);
-                    }
-                }.address(),
-                new CallbackI.P() {
-                    @Override public String getSignature() {
-                        return "(pp)p";
-                    }
-                    @Override public long callback(long args) {
-                        long alignment = dcbArgPointer(args);
-                        long size      = dcbArgPointer(args);
-                        return aligned_alloc(alignment, size);
-                    }
-                }.address(),
-                new CallbackI.V() {
-                    @Override public String getSignature() {
-                        return "(p)v";
-                    }
-                    @Override public void callback(long args) {
-                        long ptr = dcbArgPointer(args);
-                        aligned_free(ptr);
-                    }
-                }.address()
-            };
+            this.callbacks = createCallbacks(this);
 
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 for (long callback : callbacks) {
                     Callback.free(callback);
                 }
 
+                long[] unsampled = new long[2];
+                UNSAMPLED.forEach((address, size) -> {
+                    unsampled[0]++;
+                    unsampled[1] += size;
+                });
+                if (unsampled[0] != 0L) {
+                    DEBUG_STREAM.format(
+                        "[LWJGL] %d bytes leaked in %d allocations without a stack trace (sample rate: 1/%d)\n",
+                        unsampled[1],
+                        unsampled[0],
+                        SAMPLE_RATE
+                    );
+                }
+
                 if (ALLOCATIONS.isEmpty()) {
                     return;
                 }
@@ -232,7 +765,40 @@ final class MemoryManage {
             allocator.aligned_free(ptr);
         }
 
+        @Override
+        public long usable_size(long ptr) {
+            return allocator.usable_size(ptr);
+        }
+
+        private static boolean isSampled(long size) {
+            return isSampled(size, SAMPLE_RATE, SAMPLE_SIZE, ThreadLocalRandom.current());
+        }
+
+        static boolean isSampled(long size, int sampleRate, long sampleSize, Random random) {
+            return sampleRate == 1 || sampleSize <= size && sampleSize != 0L || random.nextInt(sampleRate) == 0;
+        }
+
+        private static long getWeight(long size) {
+            return getWeight(size, SAMPLE_RATE, SAMPLE_SIZE);
+        }
+
+        /** Returns how many allocations of the specified size are represented by a sampled allocation. */
+        static long getWeight(long size, int sampleRate, long sampleSize) {
+            return sampleSize <= size && sampleSize != 0L ? 1L : sampleRate;
+        }
+
         static long track(long address, long size) {
+            return track(address, size, isSampled(size));
+        }
+
+        static long track(long address, long size, boolean sampled) {
+            if (address != NULL && !sampled) {
+                if (UNSAMPLED.put(address, size)) {
+                    throw new IllegalStateException("The memory address specified is already being tracked: 0x" + Long.toHexString(address).toUpperCase());
+                }
+                return address;
+            }
+
             if (address != NULL) {
                 Thread t        = Thread.currentThread();
                 Long   threadId = t.getId();
@@ -254,6 +820,11 @@ final class MemoryManage {
                 return 0L;
             }
 
+            long size = UNSAMPLED.remove(address);
+            if (size != -1L) {
+                return size;
+            }
+
             Allocation allocation = ALLOCATIONS.remove(address);
             if (allocation == null) {
                 throw new IllegalStateException("The memory address specified is not being tracked: 0x" + Long.toHexString(address).toUpperCase());
@@ -262,6 +833,58 @@ final class MemoryManage {
             return allocation.size;
         }
 
+        /**
+         * A striped address-to-size map.
+         *
+         * <p>Each stripe is a {@link LongLongMap} that allocates its table with the system allocator, so that the table itself is never tracked.</p>
+         */
+        static final class AddressTable {
+
+            private static final int STRIPE_SHIFT = 4;
+
+            private static final MemoryAllocator SYSTEM = new StdlibAllocator();
+
+            private final LongLongMap[] stripes = new LongLongMap[1 << STRIPE_SHIFT];
+
+            AddressTable() {
+                for (int i = 0; i < stripes.length; i++) {
+                    stripes[i] = new LongLongMap(64, SYSTEM);
+                }
+            }
+
+            // LongLongMap uses the top bits of the same hash, use bits from the middle for the stripe
+            private LongLongMap stripe(long address) {
+                return stripes[(int)((address * 0x9E3779B97F4A7C15L) >>> 28) & (stripes.length - 1)];
+            }
+
+            /** Returns true if the address was already present. */
+            boolean put(long address, long size) {
+                LongLongMap stripe = stripe(address);
+                synchronized (stripe) {
+                    boolean present = stripe.containsKey(address);
+                    stripe.put(address, size);
+                    return present;
+                }
+            }
+
+            /** Returns the size of the removed address, or -1 if the address was not present. */
+            long remove(long address) {
+                LongLongMap stripe = stripe(address);
+                synchronized (stripe) {
+                    return stripe.containsKey(address) ? stripe.remove(address) : -1L;
+                }
+            }
+
+            void forEach(LongLongMap.EntryConsumer consumer) {
+                for (LongLongMap stripe : stripes) {
+                    synchronized (stripe) {
+                        stripe.forEach(consumer);
+                    }
+                }
+            }
+
+        }
+
         private static class Allocation {
 
             private final Object[] stackTrace;
@@ -314,6 +937,10 @@ final class MemoryManage {
             }
         }
 
+        private static <T> void aggregate(T t, Allocation allocation, Map<T, AtomicLong> map) {
+            aggregate(t, allocation.size * getWeight(allocation.size), map);
+        }
+
         private static <T> void aggregate(T t, long size, Map<T, AtomicLong> map) {
             AtomicLong node = map.computeIfAbsent(t, k -> new AtomicLong());
             node.set(node.get() + size);
@@ -330,17 +957,18 @@ final class MemoryManage {
                     if (groupByThread) {
                         Map<Long, AtomicLong> mapThread = new HashMap<>();
                         for (Allocation allocation : ALLOCATIONS.values()) {
-                            aggregate(allocation.threadId, allocation.size, mapThread);
+                            aggregate(allocation.threadId, allocation, mapThread);
                         }
                         for (Entry<Long, AtomicLong> entry : mapThread.entrySet()) {
                             report.invoke(NULL, entry.getValue().get(), entry.getKey(), THREADS.get(entry.getKey()), (StackTraceElement[])null);
                         }
                     } else {
-                        long total = 0L;
+                        long[] total = new long[1];
                         for (Allocation allocation : ALLOCATIONS.values()) {
-                            total += allocation.size;
+                            total[0] += allocation.size;
                         }
-                        report.invoke(NULL, total, NULL, null, (StackTraceElement[])null);
+                        UNSAMPLED.forEach((address, size) -> total[0] += size);
+                        report.invoke(NULL, total[0], NULL, null, (StackTraceElement[])null);
                     }
                     break;
                 case GROUP_BY_METHOD:
@@ -349,7 +977,7 @@ final class MemoryManage {
                         Map<Long, Map<StackTraceElement, AtomicLong>> mapThreadMethod = new HashMap<>();
                         for (Allocation allocation : ALLOCATIONS.values()) {
                             Map<StackTraceElement, AtomicLong> mapMethod = mapThreadMethod.computeIfAbsent(allocation.threadId, k -> new HashMap<>());
-                            aggregate(allocation.getElements()[0], allocation.size, mapMethod);
+                            aggregate(allocation.getElements()[0], allocation, mapMethod);
                         }
 
                         for (Entry<Long, Map<StackTraceElement, AtomicLong>> tms : mapThreadMethod.entrySet()) {
@@ -363,7 +991,7 @@ final class MemoryManage {
                     } else {
                         Map<StackTraceElement, AtomicLong> mapMethod = new HashMap<>();
                         for (Allocation allocation : ALLOCATIONS.values()) {
-                            aggregate(allocation.getElements()[0], allocation.size, mapMethod);
+                            aggregate(allocation.getElements()[0], allocation, mapMethod);
                         }
                         for (Entry<StackTraceElement, AtomicLong> ms : mapMethod.entrySet()) {
                             report.invoke(NULL, ms.getValue().get(), NULL, null, ms.getKey());
@@ -376,7 +1004,7 @@ final class MemoryManage {
                         Map<Long, Map<Allocation, AtomicLong>> mapThreadStackTrace = new HashMap<>();
                         for (Allocation allocation : ALLOCATIONS.values()) {
                             Map<Allocation, AtomicLong> mapStackTrace = mapThreadStackTrace.computeIfAbsent(allocation.threadId, k -> new HashMap<>());
-                            aggregate(allocation, allocation.size, mapStackTrace);
+                            aggregate(allocation, allocation, mapStackTrace);
                         }
 
                         for (Entry<Long, Map<Allocation, AtomicLong>> tss : mapThreadStackTrace.entrySet()) {
@@ -390,7 +1018,7 @@ final class MemoryManage {
                     } else {
                         Map<Allocation, AtomicLong> mapStackTrace = new HashMap<>();
                         for (Allocation allocation : ALLOCATIONS.values()) {
-                            aggregate(allocation, allocation.size, mapStackTrace);
+                            aggregate(allocation, allocation, mapStackTrace);
                         }
                         for (Entry<Allocation, AtomicLong> ss : mapStackTrace.entrySet()) {
                             report.invoke(NULL, ss.getValue().get(), NULL, null, ss.getKey().getElements());
@@ -0,0 +1,333 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.libc.*;
+import org.lwjgl.system.linux.*;
+import org.lwjgl.system.macosx.*;
+import org.lwjgl.system.windows.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel.*;
+import java.nio.file.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A region of a file, mapped directly into the address space of the process.
+ *
+ * <p>Unlike {@link java.nio.MappedByteBuffer}, the mapping is identified by a {@code long} address and size, so files larger than 2GB can be mapped in one
+ * piece. The mapped memory can be passed to native functions as-is, or accessed with {@code ByteBuffer} views returned by {@link #buffer} and
+ * {@link #buffer(long, int)}, which are equivalent to views returned by {@link MemoryUtil#memByteBuffer}. Native decoders reading from the mapping read
+ * directly from the operating system's page cache, without an intermediate copy.</p>
+ *
+ * <p>The mapping is released deterministically by {@link #free}. Any buffer views created before that become invalid and must not be accessed
+ * afterwards.</p>
+ */
+public final class MemoryMappedFile implements NativeResource {
+
+    /** Hints about the expected access pattern of a mapped range, used by {@link #advise}. */
+    public enum Advice {
+        /** No special treatment. This is the default. */
+        NORMAL,
+        /** Pages will be accessed in random order. Read-ahead is less useful than normal. */
+        RANDOM,
+        /** Pages will be accessed in sequential order. Pages can be read ahead aggressively and freed soon after they are accessed. */
+        SEQUENTIAL,
+        /** Pages will be accessed in the near future. Read-ahead is started asynchronously. */
+        WILLNEED,
+        /**
+         * Back the range with transparent huge pages, if possible. Only supported on Linux and file-backed mappings additionally require a filesystem and
+         * kernel configuration that allow huge pages in the page cache.
+         */
+        HUGEPAGE
+    }
+
+    /** Mapping offsets must be a multiple of this value. */
+    private static final long ALLOCATION_GRANULARITY = Platform.get() == Platform.WINDOWS ? 64 * 1024 : PAGE_SIZE;
+
+    private long base;
+    private final long baseSize;
+
+    private final long address;
+    private final long size;
+
+    private MemoryMappedFile(long base, long baseSize, long address, long size) {
+        this.base = base;
+        this.baseSize = baseSize;
+
+        this.address = address;
+        this.size = size;
+    }
+
+    /**
+     * Maps the whole file at the specified path into memory.
+     *
+     * @param path the file to map
+     * @param mode the mapping mode. One of:<br><table><tr><td>{@link MapMode#READ_ONLY READ_ONLY}</td><td>{@link MapMode#READ_WRITE READ_WRITE}</td><td>{@link MapMode#PRIVATE PRIVATE}</td></tr></table>
+     *
+     * @return the mapped file
+     *
+     * @throws IllegalArgumentException if the file is empty
+     * @throws IOException              if the file could not be opened or mapped
+     */
+    public static MemoryMappedFile map(Path path, MapMode mode) throws IOException {
+        return map(path, mode, 0L, Files.size(path));
+    }
+
+    /**
+     * Maps a region of the file at the specified path into memory.
+     *
+     * <p>The region does not need to be aligned, the mapping is extended internally to satisfy the alignment requirements of the operating system.
+     * {@link #address} always returns the address that corresponds to {@code offset}.</p>
+     *
+     * @param path   the file to map
+     * @param mode   the mapping mode. One of:<br><table><tr><td>{@link MapMode#READ_ONLY READ_ONLY}</td><td>{@link MapMode#READ_WRITE READ_WRITE}</td><td>{@link MapMode#PRIVATE PRIVATE}</td></tr></table>
+     * @param offset the offset of the region in the file, in bytes
+     * @param size   the size of the region, in bytes. The region must be contained in the file, files are never extended.
+     *
+     * @return the mapped file
+     *
+     * @throws IllegalArgumentException if the region is empty or not contained in the file
+     * @throws IOException              if the file could not be opened or mapped
+     */
+    public static MemoryMappedFile map(Path path, MapMode mode, long offset, long size) throws IOException {
+        long fileSize = Files.size(path);
+        if (offset < 0L || size <= 0L || fileSize - offset < size) {
+            throw new IllegalArgumentException("Invalid region [" + offset + ", " + size + "] for file of size " + fileSize + ": " + path);
+        }
+
+        long delta = offset & (ALLOCATION_GRANULARITY - 1L);
+
+        long baseOffset = offset - delta;
+        long baseSize   = size + delta;
+
+        long base = Platform.get() == Platform.WINDOWS
+            ? mapWindows(path, mode, baseOffset, baseSize)
+            : mapPOSIX(path, mode, baseOffset, baseSize);
+
+        return new MemoryMappedFile(base, baseSize, base + delta, size);
+    }
+
+    private static long mapPOSIX(Path path, MapMode mode, long offset, long size) throws IOException {
+        boolean linux = Platform.get() == Platform.LINUX;
+
+        int fd = linux
+            ? FCNTL.open(path.toString(), (mode == MapMode.READ_WRITE ? FCNTL.O_RDWR : FCNTL.O_RDONLY) | FCNTL.O_CLOEXEC)
+            : LibC.open(path.toString(), (mode == MapMode.READ_WRITE ? LibC.O_RDWR : LibC.O_RDONLY) | LibC.O_CLOEXEC);
+        if (fd == -1) {
+            throw new IOException("Failed to open file: " + path + " (errno: " + LibCErrno.getErrno() + ")");
+        }
+
+        try {
+            // The PROT_ and MAP_ values are the same on Linux and macOS
+            int prot  = mode == MapMode.READ_ONLY ? MMAN.PROT_READ : MMAN.PROT_READ | MMAN.PROT_WRITE;
+            int flags = mode == MapMode.PRIVATE ? MMAN.MAP_PRIVATE : MMAN.MAP_SHARED;
+
+            long address = linux
+                ? MMAN.mmap(NULL, size, prot, flags, fd, offset)
+                : LibC.mmap(NULL, size, prot, flags, fd, offset);
+            if (address == MMAN.MAP_FAILED) {
+                throw new IOException("Failed to map file: " + path + " (errno: " + LibCErrno.getErrno() + ")");
+            }
+            return address;
+        } finally {
+            if (linux) {
+                UNISTD.close(fd);
+            } else {
+                LibC.close(fd);
+            }
+        }
+    }
+
+    private static long mapWindows(Path path, MapMode mode, long offset, long size) throws IOException {
+        long file = WinBase.CreateFile(
+            path.toString(),
+            mode == MapMode.READ_WRITE ? WinBase.GENERIC_READ | WinBase.GENERIC_WRITE : WinBase.GENERIC_READ,
+            WinBase.FILE_SHARE_READ | WinBase.FILE_SHARE_WRITE | WinBase.FILE_SHARE_DELETE,
+            null,
+            WinBase.OPEN_EXISTING,
+            WinBase.FILE_ATTRIBUTE_NORMAL,
+            NULL
+        );
+        if (file == WinBase.INVALID_HANDLE_VALUE) {
+            throw new IOException("Failed to open file: " + path + " (error: " + WinBase.getLastError() + ")");
+        }
+
+        try {
+            int protect, access;
+            if (mode == MapMode.READ_ONLY) {
+                protect = WinBase.PAGE_READONLY;
+                access = WinBase.FILE_MAP_READ;
+            } else if (mode == MapMode.READ_WRITE) {
+                protect = WinBase.PAGE_READWRITE;
+                access = WinBase.FILE_MAP_WRITE;
+            } else {
+                protect = WinBase.PAGE_WRITECOPY;
+                access = WinBase.FILE_MAP_COPY;
+            }
+
+            long mapping = WinBase.CreateFileMapping(file, null, protect, 0, 0, (ByteBuffer)null);
+            if (mapping == NULL) {
+                throw new IOException("Failed to create file mapping: " + path + " (error: " + WinBase.getLastError() + ")");
+            }
+
+            try {
+                long address = WinBase.MapViewOfFile(mapping, access, (int)(offset >>> 32), (int)offset, size);
+                if (address == NULL) {
+                    throw new IOException("Failed to map file: " + path + " (error: " + WinBase.getLastError() + ")");
+                }
+                return address;
+            } finally {
+                // The view keeps a reference to the mapping object
+                WinBase.CloseHandle(mapping);
+            }
+        } finally {
+            WinBase.CloseHandle(file);
+        }
+    }
+
+    /** Returns the address of the mapped region, or {@link MemoryUtil#NULL NULL} if the mapping has been freed. */
+    public long address() {
+        return base == NULL ? NULL : address;
+    }
+
+    /** Returns the size of the mapped region, in bytes. */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns a {@code ByteBuffer} view of the whole mapped region.
+     *
+     * @throws IllegalStateException if the mapping has been freed or the mapped region is larger than {@link Integer#MAX_VALUE} bytes. Use
+     *                               {@link #buffer(long, int)} to access large mappings.
+     */
+    public ByteBuffer buffer() {
+        if (Integer.MAX_VALUE < size) {
+            throw new IllegalStateException("The mapped region is too large for a single ByteBuffer: " + size);
+        }
+        return buffer(0L, (int)size);
+    }
+
+    /**
+     * Returns a {@code ByteBuffer} view of a range of the mapped region.
+     *
+     * @param offset the offset of the range in the mapped region, in bytes
+     * @param size   the size of the range, in bytes
+     *
+     * @throws IllegalStateException     if the mapping has been freed
+     * @throws IndexOutOfBoundsException if the range is not contained in the mapped region
+     */
+    public ByteBuffer buffer(long offset, int size) {
+        checkRange(offset, size);
+        return memByteBuffer(address + offset, size);
+    }
+
+    /**
+     * Advises the operating system about the expected access pattern of the whole mapped region.
+     *
+     * @param advice the access pattern
+     *
+     * @return true if the advice was applied, false if it is not supported on the current platform or was rejected by the operating system
+     *
+     * @throws IllegalStateException if the mapping has been freed
+     */
+    public boolean advise(Advice advice) {
+        return advise(0L, size, advice);
+    }
+
+    /**
+     * Advises the operating system about the expected access pattern of a range of the mapped region.
+     *
+     * <p>The advice is a hint, it never changes the contents of the mapping. It is applied to all memory pages that overlap the specified range. It is
+     * ignored on Windows.</p>
+     *
+     * @param offset the offset of the range in the mapped region, in bytes
+     * @param size   the size of the range, in bytes
+     * @param advice the access pattern
+     *
+     * @return true if the advice was applied, false if it is not supported on the current platform or was rejected by the operating system. If rejected,
+     * {@link LibCErrno#getErrno} returns the error code.
+     *
+     * @throws IllegalStateException     if the mapping has been freed
+     * @throws IndexOutOfBoundsException if the range is not contained in the mapped region
+     */
+    public boolean advise(long offset, long size, Advice advice) {
+        checkRange(offset, size);
+
+        long start = (address + offset) & ~(PAGE_SIZE - 1L);
+        long end   = address + offset + size;
+
+        switch (Platform.get()) {
+            case LINUX:
+                return MMAN.madvise(start, end - start, getAdviceLinux(advice)) == 0;
+            case MACOSX:
+                return advice != Advice.HUGEPAGE && LibC.madvise(start, end - start, getAdviceMacOS(advice)) == 0;
+            default:
+                return false;
+        }
+    }
+
+    private static int getAdviceLinux(Advice advice) {
+        switch (advice) {
+            case RANDOM:
+                return MMAN.MADV_RANDOM;
+            case SEQUENTIAL:
+                return MMAN.MADV_SEQUENTIAL;
+            case WILLNEED:
+                return MMAN.MADV_WILLNEED;
+            case HUGEPAGE:
+                return MMAN.MADV_HUGEPAGE;
+            default:
+                return MMAN.MADV_NORMAL;
+        }
+    }
+
+    private static int getAdviceMacOS(Advice advice) {
+        switch (advice) {
+            case RANDOM:
+                return LibC.MADV_RANDOM;
+            case SEQUENTIAL:
+                return LibC.MADV_SEQUENTIAL;
+            case WILLNEED:
+                return LibC.MADV_WILLNEED;
+            default:
+                return LibC.MADV_NORMAL;
+        }
+    }
+
+    private void checkRange(long offset, long size) {
+        if (base == NULL) {
+            throw new IllegalStateException("The file mapping has been freed.");
+        }
+        if (offset < 0L || size < 0L || this.size - offset < size) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + size + "] out of bounds for mapped region of size " + this.size);
+        }
+    }
+
+    /** Unmaps the file. Does nothing if the mapping has already been freed. */
+    @Override
+    public void free() {
+        if (base == NULL) {
+            return;
+        }
+
+        switch (Platform.get()) {
+            case LINUX:
+                MMAN.munmap(base, baseSize);
+                break;
+            case MACOSX:
+                LibC.munmap(base, baseSize);
+                break;
+            case WINDOWS:
+                WinBase.UnmapViewOfFile(base);
+                break;
+        }
+        base = NULL;
+    }
+
+}
@@ -21,6 +21,7 @@ import static org.lwjgl.system.StackWalkUtil.*;
  * <p>This class should be used in a thread-local manner for stack allocations.</p>
  *
  * @see Configuration#STACK_SIZE
+ * @see Configuration#STACK_GROWABLE
  * @see Configuration#DEBUG_STACK
  */
 public class MemoryStack extends Pointer.Default implements AutoCloseable {
@@ -28,6 +29,8 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
     private static final int DEFAULT_STACK_SIZE   = Configuration.STACK_SIZE.get(64) * 1024;
     private static final int DEFAULT_STACK_FRAMES = 8;
 
+    private static final boolean GROWABLE = Configuration.STACK_GROWABLE.get(false);
+
     private static final ThreadLocal<MemoryStack> TLS = ThreadLocal.withInitial(MemoryStack::create);
 
     static {
@@ -47,6 +50,21 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
     private   int[] frames;
     protected int   frameIndex;
 
+    // Overflow segments, only used when the stack is growable.
+    private final boolean growable;
+
+    @Nullable
+    private long[] segments;
+    @Nullable
+    private int[]  segmentFrames;
+    private int    segmentCount;
+
+    private long segmentCursor;
+    private long segmentLimit;
+
+    // The segment cursor and limit of each frame, restored when the frame is popped. Empty if the stack is not growable.
+    private long[] segmentMarks;
+
     /**
      * Creates a new {@code MemoryStack} backed by the specified memory region.
      *
@@ -57,6 +75,10 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      * @param size      the backing memory size
      */
     protected MemoryStack(@Nullable ByteBuffer container, long address, int size) {
+        this(container, address, size, GROWABLE);
+    }
+
+    MemoryStack(@Nullable ByteBuffer container, long address, int size, boolean growable) {
         super(address);
         this.container = container;
 
@@ -64,6 +86,9 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
         this.pointer = size;
 
         this.frames = new int[DEFAULT_STACK_FRAMES];
+
+        this.growable = growable;
+        this.segmentMarks = new long[growable ? DEFAULT_STACK_FRAMES * 2 : 0];
     }
 
     /**
@@ -101,6 +126,12 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
             : new MemoryStack(buffer, address, size);
     }
 
+    /** Like {@link #create(int)}, but the stack is growable, regardless of {@link Configuration#STACK_GROWABLE}. */
+    static MemoryStack createGrowable(int capacity) {
+        ByteBuffer buffer = BufferUtils.createByteBuffer(capacity);
+        return new MemoryStack(buffer, memAddress(buffer), buffer.remaining(), true);
+    }
+
     /**
      * Creates a new {@code MemoryStack} backed by the specified memory region.
      *
@@ -135,6 +166,9 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
             frameOverflow();
         }
 
+        if (growable) {
+            pushSegmentMark();
+        }
         frames[frameIndex++] = pointer;
         return this;
     }
@@ -146,6 +180,16 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
         frames = Arrays.copyOf(frames, frames.length * 3 / 2);
     }
 
+    private void pushSegmentMark() {
+        long[] segmentMarks = this.segmentMarks;
+        if (segmentMarks.length == frameIndex * 2) {
+            this.segmentMarks = segmentMarks = Arrays.copyOf(segmentMarks, frames.length * 2);
+        }
+
+        segmentMarks[frameIndex * 2] = segmentCursor;
+        segmentMarks[frameIndex * 2 + 1] = segmentLimit;
+    }
+
     /**
      * Pops the current stack frame and moves the stack pointer to the end of the previous stack frame.
      *
@@ -153,9 +197,29 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      */
     public MemoryStack pop() {
         pointer = frames[--frameIndex];
+        if (growable) {
+            popSegments();
+        }
         return this;
     }
 
+    private void popSegments() {
+        long[] segments      = this.segments;
+        int[]  segmentFrames = this.segmentFrames;
+
+        if (segments != null && segmentFrames != null) {
+            int count = segmentCount;
+            while (count != 0 && frameIndex < segmentFrames[count - 1]) {
+                nmemFree(segments[--count]);
+            }
+            segmentCount = count;
+        }
+
+        // The segment that was active when the frame was pushed belongs to an outer frame, it has not been freed
+        segmentCursor = segmentMarks[frameIndex * 2];
+        segmentLimit = segmentMarks[frameIndex * 2 + 1];
+    }
+
     /**
      * Calls {@link #pop} on this {@code MemoryStack}.
      *
@@ -300,6 +364,9 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
      * Allocates a block of {@code size} bytes of memory on the stack. The content of the newly allocated block of memory is not initialized, remaining with
      * indeterminate values.
      *
+     * <p>If {@link Configuration#STACK_GROWABLE} is enabled and the stack is out of space, the block is allocated in an overflow segment instead. Such blocks
+     * are not reflected in the stack pointer.</p>
+     *
      * @param alignment the required alignment
      * @param size      the allocation size
      *
@@ -309,11 +376,44 @@ public class MemoryStack extends Pointer.Default implements AutoCloseable {
         // Align address to the specified alignment
         long address = (this.address + pointer - size) & ~Integer.toUnsignedLong(alignment - 1);
 
-        pointer = (int)(address - this.address);
-        if (CHECKS && pointer < 0) {
+        int pointer = (int)(address - this.address);
+        if ((CHECKS || growable) && pointer < 0) {
+            return nmallocOverflow(alignment, size);
+        }
+
+        this.pointer = pointer;
+        return address;
+    }
+
+    private long nmallocOverflow(int alignment, int size) {
+        if (!growable || frameIndex == 0) {
             throw new OutOfMemoryError("Out of stack space.");
         }
 
+        long mask  = Integer.toUnsignedLong(alignment - 1);
+        long bytes = Integer.toUnsignedLong(size);
+
+        long address = (segmentCursor + mask) & ~mask;
+        if (segmentCursor == NULL || segmentLimit - address < bytes) {
+            long segmentSize = Math.max(this.size, bytes + mask);
+            long segment     = nmemAllocChecked(segmentSize);
+
+            if (segments == null || segmentFrames == null) {
+                segments = new long[4];
+                segmentFrames = new int[4];
+            } else if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, segmentCount * 2);
+                segmentFrames = Arrays.copyOf(segmentFrames, segmentCount * 2);
+            }
+            segments[segmentCount] = segment;
+            segmentFrames[segmentCount] = frameIndex;
+            segmentCount++;
+
+            segmentLimit = segment + segmentSize;
+            address = (segment + mask) & ~mask;
+        }
+
+        segmentCursor = address + bytes;
         return address;
     }
 
@@ -10,8 +10,11 @@ import org.lwjgl.system.MemoryUtil.MemoryAllocationReport.*;
 import org.lwjgl.system.jni.*;
 
 import javax.annotation.*;
+import java.io.*;
 import java.nio.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
 
 import static java.lang.Character.*;
@@ -146,12 +149,19 @@ public final class MemoryUtil {
         static final MemoryAllocator ALLOCATOR;
 
         static {
-            ALLOCATOR_IMPL = MemoryManage.getInstance();
+            MemoryAllocator allocator = MemoryManage.getInstance();
+
+            ALLOCATOR_IMPL = Configuration.MEMORY_ALLOCATOR_STATS.get(false)
+                ? new StatsAllocator(allocator)
+                : allocator;
             ALLOCATOR = Configuration.DEBUG_MEMORY_ALLOCATOR.get(false)
                 ? new DebugAllocator(ALLOCATOR_IMPL)
                 : ALLOCATOR_IMPL;
 
             apiLog("MemoryUtil allocator: " + ALLOCATOR.getClass().getSimpleName());
+            if (allocator != ALLOCATOR_IMPL) {
+                apiLog("\tcollecting statistics for: " + MemoryManage.getName(allocator));
+            }
         }
     }
 
@@ -194,6 +204,16 @@ public final class MemoryUtil {
         /** Called by {@link MemoryUtil#memAlignedFree}. */
         void aligned_free(long ptr);
 
+        /**
+         * Returns the usable size of a memory block allocated by this allocator. Used for byte counts when
+         * {@link Configuration#MEMORY_ALLOCATOR_STATS_USABLE_SIZE} is enabled.
+         *
+         * <p>The default implementation returns -1, which means that the allocator cannot report the size of its memory blocks.</p>
+         */
+        default long usable_size(long ptr) {
+            return -1L;
+        }
+
     }
 
     /**
@@ -691,6 +711,9 @@ public final class MemoryUtil {
      *
      * <p>This method can only be used if the {@link Configuration#DEBUG_MEMORY_ALLOCATOR} option has been set to true.</p>
      *
+     * <p>If {@link Configuration#DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE} is enabled, only the sampled allocations are reported, with their thread and
+     * stacktrace. The total size of all live allocations is available via the {@link Aggregate#ALL ALL} aggregate.</p>
+     *
      * @param report the report callback
      */
     public static void memReport(MemoryAllocationReport report) {
@@ -702,6 +725,9 @@ public final class MemoryUtil {
      *
      * <p>This method can only be used if the {@link Configuration#DEBUG_MEMORY_ALLOCATOR} option has been set to true.</p>
      *
+     * <p>If {@link Configuration#DEBUG_MEMORY_ALLOCATOR_SAMPLE_RATE} is enabled, the reported amounts are extrapolated from the sampled allocations, except
+     * for the {@link Aggregate#ALL ALL} aggregate without grouping by thread, which is exact.</p>
+     *
      * @param report            the report callback
      * @param groupByStackTrace how to aggregate the reported allocations
      * @param groupByThread     if the reported allocations should be grouped by thread
@@ -710,6 +736,144 @@ public final class MemoryUtil {
         DebugAllocator.report(report, groupByStackTrace, groupByThread);
     }
 
+    // --- [ StatsAllocator ] ---
+
+    /**
+     * Returns the live statistics of the allocator used by the explicit memory management API ({@link #memAlloc}, {@link #memFree}, etc).
+     *
+     * <p>This method can only be used if the {@link Configuration#MEMORY_ALLOCATOR_STATS} option has been set to true.</p>
+     *
+     * @return the allocator statistics, or {@code null} if statistics are not collected
+     */
+    @Nullable
+    public static MemoryAllocatorStats memStats() {
+        return ALLOCATOR_IMPL instanceof StatsAllocator
+            ? ((StatsAllocator)ALLOCATOR_IMPL).stats
+            : null;
+    }
+
+    /**
+     * Returns the live statistics of the specified allocator.
+     *
+     * @param allocator the allocator name: {@code "system"}, {@code "jemalloc"}, {@code "rpmalloc"}, {@code "slab"} or the fully qualified class name of a
+     *                  custom allocator
+     *
+     * @return the allocator statistics, or {@code null} if statistics are not collected for that allocator
+     */
+    @Nullable
+    public static MemoryAllocatorStats memStats(String allocator) {
+        return MemoryAllocatorStats.get(allocator);
+    }
+
+    /** Returns the live statistics of all allocators for which statistics are collected. */
+    public static Collection<MemoryAllocatorStats> memStatsAll() {
+        return MemoryAllocatorStats.getAll();
+    }
+
+    // --- [ memMapFile ] ---
+
+    /**
+     * Maps the whole file at the specified path into memory.
+     *
+     * <p>This is a shortcut for {@link MemoryMappedFile#map(Path, FileChannel.MapMode)}. The returned mapping must be explicitly freed with
+     * {@link MemoryMappedFile#free}.</p>
+     *
+     * @param path the file to map
+     * @param mode the mapping mode
+     *
+     * @return the mapped file
+     *
+     * @throws IOException if the file could not be opened or mapped
+     */
+    public static MemoryMappedFile memMapFile(Path path, FileChannel.MapMode mode) throws IOException {
+        return MemoryMappedFile.map(path, mode);
+    }
+
+    // --- [ memAllocLarge ] ---
+
+    /** {@link #memAllocLarge} flag: requests transparent huge pages for the allocation. */
+    public static final int MEM_HUGE_PAGES = 0x1;
+
+    /** {@link #memAllocLarge} flag: pre-faults all pages of the allocation, so that the first access does not incur page faults. */
+    public static final int MEM_PREFAULT = 0x2;
+
+    /** May be passed to the {@code node} parameter of {@link #memAllocLarge}, to allocate memory on any NUMA node. */
+    public static final int MEM_NUMA_NODE_ANY = -1;
+
+    /** Unsafe version of {@link #memAllocLarge}. May return {@link #NULL} if {@code size} is zero or the allocation failed. */
+    public static long nmemAllocLarge(long size, int flags, int node) {
+        return LargePages.alloc(size, flags, node);
+    }
+
+    /**
+     * Allocates a large block of memory directly from the operating system, bypassing the memory allocator.
+     *
+     * <p>This method is meant for multi-megabyte, long-lived allocations. The allocation size is rounded up to a multiple of the page size, or the huge page
+     * size if {@link #MEM_HUGE_PAGES} is specified, and the returned memory is aligned to the same size. Memory allocated with this method must be explicitly
+     * freed with {@link #memFreeLarge}.</p>
+     *
+     * <p>Huge pages and NUMA binding are currently only supported on Linux and are requested with {@code madvise(MADV_HUGEPAGE)} and
+     * {@code mbind(MPOL_PREFERRED)} respectively. On other platforms, or if the kernel lacks support, the requests are ignored and the memory is allocated
+     * normally. The {@link LargePageStats} returned by {@link #memLargeStats} report how many requests were honored and how many bytes actually landed on
+     * huge pages.</p>
+     *
+     * @param size  the allocation size
+     * @param flags the allocation flags. One or more of:<br><table><tr><td>{@link #MEM_HUGE_PAGES}</td><td>{@link #MEM_PREFAULT}</td></tr></table>
+     * @param node  the NUMA node on which the memory should be allocated, or {@link #MEM_NUMA_NODE_ANY}
+     *
+     * @return on success, a pointer to the beginning of newly allocated memory
+     *
+     * @throws OutOfMemoryError if there is not enough memory available
+     */
+    public static ByteBuffer memAllocLarge(int size, int flags, int node) {
+        long address = nmemAllocLarge(size != 0 ? size : 1L, flags, node);
+        if (CHECKS && address == NULL) {
+            throw new OutOfMemoryError();
+        }
+        return wrap(BUFFER_BYTE, address, size).order(NATIVE_ORDER);
+    }
+
+    /**
+     * Frees memory allocated with {@link #nmemAllocLarge}.
+     *
+     * @param ptr the memory to free. If {@code ptr} is {@link #NULL}, no operation is performed.
+     *
+     * @throws IllegalArgumentException if {@code ptr} has not been allocated with {@link #nmemAllocLarge}
+     */
+    public static void nmemFreeLarge(long ptr) {
+        LargePages.free(ptr);
+    }
+
+    /**
+     * Frees memory allocated with {@link #memAllocLarge}.
+     *
+     * @param ptr the memory to free. If {@code ptr} is null, no operation is performed.
+     *
+     * @throws IllegalArgumentException if {@code ptr} has not been allocated with {@link #memAllocLarge}
+     */
+    public static void memFreeLarge(@Nullable ByteBuffer ptr) {
+        if (ptr != null) {
+            nmemFreeLarge(UNSAFE.getLong(ptr, ADDRESS));
+        }
+    }
+
+    /**
+     * Returns the number of bytes in the specified memory range that are currently backed by huge pages.
+     *
+     * <p>This method is expensive, it reads the memory map of the process from {@code /proc/self/smaps}. It returns 0 on platforms other than Linux.</p>
+     *
+     * @param address the starting memory address
+     * @param size    the size of the memory range
+     */
+    public static long memHugePageBytes(long address, long size) {
+        return LargePages.getHugePageBytes(address, size);
+    }
+
+    /** Returns the live statistics of the large allocation API ({@link #memAllocLarge}, {@link #memFreeLarge}, etc). */
+    public static LargePageStats memLargeStats() {
+        return LargePageStats.INSTANCE;
+    }
+
     /*  -------------------------------------
         -------------------------------------
                 BUFFER MANAGEMENT API
@@ -1863,6 +2027,72 @@ public final class MemoryUtil {
         }
     }
 
+    /**
+     * Compares two blocks of memory, byte-by-byte, as unsigned values.
+     *
+     * @param a     the first memory address
+     * @param b     the second memory address
+     * @param bytes the number of bytes to compare
+     *
+     * @return zero if the two blocks are equal, a negative value if the first differing byte is smaller in {@code a}, a positive value otherwise
+     */
+    public static int memCompare(long a, long b, long bytes) {
+        long i = memMismatch(a, b, bytes);
+        return i == -1L
+            ? 0
+            : Integer.compare(UNSAFE.getByte(null, a + i) & 0xFF, UNSAFE.getByte(null, b + i) & 0xFF);
+    }
+
+    /**
+     * Finds the first byte that differs between two blocks of memory.
+     *
+     * @param a     the first memory address
+     * @param b     the second memory address
+     * @param bytes the number of bytes to compare
+     *
+     * @return the offset of the first byte that differs, or -1 if the two blocks are equal
+     *
+     * @throws IllegalArgumentException if {@link Configuration#DISABLE_CHECKS} is not set and an address is {@code NULL} or {@code bytes} is negative
+     */
+    public static long memMismatch(long a, long b, long bytes) {
+        if (CHECKS && (a == NULL || b == NULL || bytes < 0)) {
+            throw new IllegalArgumentException();
+        }
+
+        return MultiReleaseMemCompare.mismatch(a, b, bytes);
+    }
+
+    static long memMismatchAligned(long a, long b, long bytes) {
+        long i = 0L;
+
+        // Both blocks must have the same misalignment for the long loop
+        if (((int)(a ^ b) & 7) == 0) {
+            for (long prologue = Math.min(bytes, (8 - (int)a) & 7); i < prologue; i++) {
+                if (UNSAFE.getByte(null, a + i) != UNSAFE.getByte(null, b + i)) {
+                    return i;
+                }
+            }
+
+            // Aligned longs for performance
+            for (; i <= bytes - 8; i += 8) {
+                long diff = UNSAFE.getLong(null, a + i) ^ UNSAFE.getLong(null, b + i);
+                if (diff != 0L) {
+                    return i + (NATIVE_ORDER == ByteOrder.LITTLE_ENDIAN
+                        ? Long.numberOfTrailingZeros(diff) >>> 3
+                        : Long.numberOfLeadingZeros(diff) >>> 3);
+                }
+            }
+        }
+
+        for (; i < bytes; i++) {
+            if (UNSAFE.getByte(null, a + i) != UNSAFE.getByte(null, b + i)) {
+                return i;
+            }
+        }
+
+        return -1L;
+    }
+
     public static boolean memGetBoolean(long ptr) { return UNSAFE.getByte(null, ptr) != 0; }
     public static byte memGetByte(long ptr)       { return UNSAFE.getByte(null, ptr); }
     public static short memGetShort(long ptr)     { return UNSAFE.getShort(null, ptr); }
@@ -2306,18 +2536,19 @@ public final class MemoryUtil {
         if (8 <= maxLength) {
             int misalignment = (int)address & 7;
             if (misalignment != 0) {
-                // Align to 8 bytes
-                for (int len = 8 - misalignment; i < len; i++) {
-                    if (UNSAFE.getByte(null, address + i) == 0) {
-                        return i;
-                    }
+                // Align to 8 bytes: read the aligned word that contains the first byte, with the bytes before it masked to non-zero.
+                long word = UNSAFE.getLong(null, address - misalignment) | SHIFT.left(-1L, 8 - misalignment);
+                if (mathHasZeroByte(word)) {
+                    return zeroByteIndex(word) - misalignment;
                 }
+                i = 8 - misalignment;
             }
 
             // Aligned longs for performance
             while (i <= maxLength - 8) {
-                if (mathHasZeroByte(UNSAFE.getLong(null, address + i))) {
-                    break;
+                long word = UNSAFE.getLong(null, address + i);
+                if (mathHasZeroByte(word)) {
+                    return i + zeroByteIndex(word);
                 }
                 i += 8;
             }
@@ -2333,6 +2564,15 @@ public final class MemoryUtil {
         return i;
     }
 
+    // Returns the index, in memory order, of the first zero byte in the specified word. The word must contain at least one zero byte.
+    private static int zeroByteIndex(long word) {
+        // Unlike mathHasZeroByte, this has no false positives above the first zero byte.
+        long zeroes = ~(((word & 0x7F7F_7F7F_7F7F_7F7FL) + 0x7F7F_7F7F_7F7F_7F7FL) | word | 0x7F7F_7F7F_7F7F_7F7FL);
+        return (NATIVE_ORDER == ByteOrder.LITTLE_ENDIAN
+            ? Long.numberOfTrailingZeros(zeroes)
+            : Long.numberOfLeadingZeros(zeroes)) >>> 3;
+    }
+
     private static int strlen32NT1(long address, int maxLength) {
         int i = 0;
 
@@ -0,0 +1,19 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+final class MultiReleaseMemCompare {
+
+    private MultiReleaseMemCompare() {
+    }
+
+    static long mismatch(long a, long b, long bytes) {
+        // There is no vectorized mismatch available on Java 8. memcmp cannot be used either, it does not return the mismatch offset.
+        return memMismatchAligned(a, b, bytes);
+    }
+
+}
@@ -4,6 +4,7 @@
  */
 package org.lwjgl.system;
 
+import javax.annotation.*;
 import java.nio.*;
 import java.nio.charset.*;
 
@@ -17,6 +18,9 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 final class MultiReleaseTextDecoding {
 
+    // Maps the bit offset of a byte in memory order to its bit offset in a long.
+    private static final int BYTE_SHIFT_XOR = NATIVE_ORDER == ByteOrder.LITTLE_ENDIAN ? 0 : 56;
+
     private MultiReleaseTextDecoding() {
     }
 
@@ -38,6 +42,23 @@ final class MultiReleaseTextDecoding {
         int i = 0, position = 0;
 
         while (position < length) {
+            // ASCII fast path, 8 bytes at a time
+            if (((int)(source + position) & 7) == 0) {
+                while (position <= length - 8) {
+                    long word = UNSAFE.getLong(null, source + position);
+                    if ((word & 0x8080_8080_8080_8080L) != 0L) {
+                        break;
+                    }
+                    for (int b = 0; b < 64; b += 8) {
+                        string[i++] = (char)((word >>> (b ^ BYTE_SHIFT_XOR)) & 0xFF);
+                    }
+                    position += 8;
+                }
+                if (length <= position) {
+                    break;
+                }
+            }
+
             char c;
 
             int b0 = UNSAFE.getByte(null, source + position++) & 0xFF;
@@ -70,4 +91,14 @@ final class MultiReleaseTextDecoding {
         return new String(string, 0, Math.min(i, length));
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the ASCII encoding of the specified string, if it contains ASCII characters only.
+     *
+     * <p>Always returns {@code null} on Java 8.</p>
+     */
+    @Nullable
+    static byte[] getASCII(String text) {
+        return null;
+    }
+
+}
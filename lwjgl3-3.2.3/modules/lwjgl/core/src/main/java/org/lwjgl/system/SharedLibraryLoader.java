@@ -12,7 +12,12 @@ import java.io.*;
 import java.net.*;
 import java.nio.channels.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.concurrent.locks.*;
+import java.util.jar.*;
 import java.util.stream.*;
 import java.util.zip.*;
 
@@ -34,6 +39,8 @@ final class SharedLibraryLoader {
 
     private static final Lock EXTRACT_PATH_LOCK = new ReentrantLock();
 
+    private static final String MANIFEST_FILE = ".lwjgl.manifest";
+
     @GuardedBy("EXTRACT_PATH_LOCK")
     @Nullable
     private static Path extractPath;
@@ -70,6 +77,13 @@ final class SharedLibraryLoader {
                 EXTRACT_PATH_LOCK.unlock();
             }
 
+            if (ParallelExtraction.ENABLED) {
+                FileChannel fc = ParallelExtraction.await(extractedFile, resource);
+                if (fc != null) {
+                    return fc;
+                }
+            }
+
             return extract(extractedFile, resource);
         } catch (Exception e) {
             throw new RuntimeException("\tFailed to extract " + name + " library", e);
@@ -164,6 +178,9 @@ final class SharedLibraryLoader {
     /**
      * Extracts a native library resource if it does not already exist or the CRC does not match.
      *
+     * <p>The CRC of a resource in a JAR file is read from its JAR entry. If {@link Configuration#SHARED_LIBRARY_EXTRACT_MANIFEST} is enabled, the CRC of an
+     * existing file is read from the extraction manifest, as long as the file size and last-modified time have not changed.</p>
+     *
      * @param resource the resource to extract
      * @param file     the extracted file
      *
@@ -172,35 +189,69 @@ final class SharedLibraryLoader {
      * @throws IOException if an IO error occurs
      */
     private static FileChannel extract(Path file, URL resource) throws IOException {
+        boolean debugLoader = Configuration.DEBUG_LOADER.get(false);
+        long    t0          = debugLoader ? System.nanoTime() : 0L;
+
+        ExtractManifest manifest = Configuration.SHARED_LIBRARY_EXTRACT_MANIFEST.get(true)
+            ? ExtractManifest.get(file.getParent())
+            : null;
+
         if (Files.exists(file)) {
-            try (
-                InputStream source = resource.openStream();
-                InputStream target = Files.newInputStream(file)
-            ) {
-                if (crc(source) == crc(target)) {
-                    if (Configuration.DEBUG_LOADER.get(false)) {
-                        apiLog(String.format("\tFound at: %s", file));
-                    }
-                    return lock(file);
+            long resourceCRC = crc(resource);
+            if (manifest != null && manifest.matches(file, resourceCRC)) {
+                if (debugLoader) {
+                    apiLog(String.format("\tFound at: %s (manifest, %.2f ms)", file, (System.nanoTime() - t0) / 1e6));
                 }
+                return lock(file);
+            }
+
+            long fileCRC;
+            try (InputStream target = Files.newInputStream(file)) {
+                fileCRC = crc(target);
+            }
+            if (resourceCRC == fileCRC) {
+                if (manifest != null) {
+                    manifest.put(file, fileCRC);
+                }
+                if (debugLoader) {
+                    apiLog(String.format("\tFound at: %s (CRC, %.2f ms)", file, (System.nanoTime() - t0) / 1e6));
+                }
+                return lock(file);
             }
         }
 
         // If file doesn't exist or the CRC doesn't match, extract it to the temp dir.
         apiLog(String.format("    Extracting: %s", resource.getPath()));
-        //noinspection FieldAccessNotGuarded (already inside the lock)
-        if (extractPath == null) {
+        if (!isExtractPathInitialized()) {
             apiLog(String.format("            to: %s", file));
         }
 
         Files.createDirectories(file.getParent());
-        try (InputStream source = resource.openStream()) {
+        long crc;
+        try (CheckedInputStream source = new CheckedInputStream(resource.openStream(), new CRC32())) {
             Files.copy(source, file, StandardCopyOption.REPLACE_EXISTING);
+            crc = source.getChecksum().getValue();
+        }
+        if (manifest != null) {
+            manifest.put(file, crc);
+        }
+        if (debugLoader) {
+            apiLog(String.format("\tExtracted in %.2f ms", (System.nanoTime() - t0) / 1e6));
         }
 
         return lock(file);
     }
 
+    /** May be called with or without {@link #EXTRACT_PATH_LOCK} held, extractions scheduled by {@link ParallelExtraction} run without it. */
+    private static boolean isExtractPathInitialized() {
+        EXTRACT_PATH_LOCK.lock();
+        try {
+            return extractPath != null;
+        } finally {
+            EXTRACT_PATH_LOCK.unlock();
+        }
+    }
+
     /**
      * Locks a file.
      *
@@ -229,6 +280,27 @@ final class SharedLibraryLoader {
         }
     }
 
+    /**
+     * Returns the CRC of a resource. The CRC stored in the JAR entry is used if available, otherwise the resource contents are hashed.
+     *
+     * @param resource the resource
+     *
+     * @return the CRC
+     */
+    private static long crc(URL resource) throws IOException {
+        URLConnection connection = resource.openConnection();
+        if (connection instanceof JarURLConnection) {
+            JarEntry entry = ((JarURLConnection)connection).getJarEntry();
+            if (entry != null && entry.getCrc() != -1L) {
+                return entry.getCrc();
+            }
+        }
+
+        try (InputStream source = connection.getInputStream()) {
+            return crc(source);
+        }
+    }
+
     /**
      * Returns a CRC of the remaining bytes in a stream.
      *
@@ -318,4 +390,308 @@ final class SharedLibraryLoader {
         return Platform.get() == Platform.WINDOWS && file.toString().endsWith(".dll");
     }
 
+    /**
+     * The extraction manifest of a directory. Maps file names to the size, last-modified time and CRC of the extracted file.
+     *
+     * <p>The manifest is only a cache. It is ignored if it cannot be read or was written by a different LWJGL version, and failures to write it are
+     * ignored.</p>
+     */
+    private static final class ExtractManifest {
+
+        private static final Map<Path, ExtractManifest> MANIFESTS = new ConcurrentHashMap<>();
+
+        private final Path       path;
+        private final Properties entries = new Properties();
+
+        private ExtractManifest(Path directory) {
+            this.path = directory.resolve(MANIFEST_FILE);
+
+            if (Files.isReadable(path)) {
+                try (InputStream input = Files.newInputStream(path)) {
+                    entries.load(input);
+                } catch (IOException | IllegalArgumentException e) {
+                    entries.clear();
+                }
+                if (!Version.getVersion().equals(entries.getProperty("version"))) {
+                    entries.clear();
+                }
+            }
+        }
+
+        static ExtractManifest get(Path directory) {
+            return MANIFESTS.computeIfAbsent(directory.toAbsolutePath(), ExtractManifest::new);
+        }
+
+        synchronized boolean matches(Path file, long crc) {
+            String entry = entries.getProperty(file.getFileName().toString());
+            if (entry == null) {
+                return false;
+            }
+            try {
+                return entry.equals(describe(file, crc));
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        synchronized void put(Path file, long crc) {
+            try {
+                entries.setProperty("version", Version.getVersion());
+                entries.setProperty(file.getFileName().toString(), describe(file, crc));
+
+                Path tmp = Files.createTempFile(path.getParent(), MANIFEST_FILE, ".tmp");
+                try {
+                    try (OutputStream output = Files.newOutputStream(tmp)) {
+                        entries.store(output, null);
+                    }
+                    try {
+                        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            } catch (IOException e) {
+                if (Configuration.DEBUG_LOADER.get(false)) {
+                    apiLog("\tFailed to update the extraction manifest: " + e);
+                }
+            }
+        }
+
+        private static String describe(Path file, long crc) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + ":" + Long.toHexString(crc);
+        }
+
+    }
+
+    /**
+     * Implements {@link Configuration#SHARED_LIBRARY_EXTRACT_PARALLEL}.
+     *
+     * <p>The first extraction schedules the extraction of all shared libraries in the LWJGL natives JAR files on the classpath, using a small pool of daemon
+     * threads. Subsequent extractions wait for the scheduled task instead of extracting the same file again.</p>
+     */
+    static final class ParallelExtraction {
+
+        static final boolean ENABLED = Configuration.SHARED_LIBRARY_EXTRACT_PARALLEL.get(false);
+
+        private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+        private static final ConcurrentMap<String, Future<Path>> EXTRACTIONS = new ConcurrentHashMap<>();
+
+        /** Native libraries opened in the background. Never freed, they must stay loaded for the duration of the process. */
+        private static final List<SharedLibrary> PRELOADED = Collections.synchronizedList(new ArrayList<>());
+
+        private ParallelExtraction() {
+        }
+
+        /**
+         * Returns a locked channel to the specified file, if its extraction was scheduled, or {@code null} if the file must be extracted by the caller.
+         *
+         * @param file     the extracted file
+         * @param resource the resource to extract
+         */
+        @Nullable
+        static FileChannel await(Path file, URL resource) throws IOException {
+            if (STARTED.compareAndSet(false, true)) {
+                start(file.getParent(), resource);
+            }
+
+            // Registered atomically, so that the background tasks and concurrent callers never extract the same file at the same time. If the file has not
+            // been scheduled yet, it is extracted in the current thread.
+            FutureTask<Path> task       = extraction(file, resource);
+            Future<Path>     extraction = EXTRACTIONS.computeIfAbsent(file.getFileName().toString(), filename -> task);
+            if (extraction == task) {
+                task.run();
+            }
+
+            try {
+                Path extracted = extraction.get();
+                if (!extracted.equals(file)) {
+                    return null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                // try again in the current thread
+                return null;
+            }
+            return lock(file);
+        }
+
+        private static void start(Path directory, URL trigger) {
+            long t0 = System.nanoTime();
+
+            String prefix = getPlatformPrefix(trigger);
+            if (prefix == null) {
+                return;
+            }
+
+            Map<String, URL> libraries = findLibraries(getNativesJars(trigger), prefix);
+            if (libraries.isEmpty()) {
+                return;
+            }
+
+            AtomicInteger  threadID = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(libraries.size(), Math.max(2, Runtime.getRuntime().availableProcessors())),
+                r -> {
+                    Thread t = new Thread(r, "LWJGL Library Extraction " + threadID.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            );
+            try {
+                extractAll(directory, libraries, executor, EXTRACTIONS);
+                libraries.keySet().forEach(filename -> {
+                    // JNI libraries must be loaded with System::load, by the class that declares the native methods.
+                    if (!isJNILibrary(filename)) {
+                        executor.execute(() -> preload(directory.resolve(filename)));
+                    }
+                });
+            } finally {
+                executor.shutdown();
+            }
+
+            if (Configuration.DEBUG_LOADER.get(false)) {
+                apiLog(String.format("\tScheduled parallel extraction of %d libraries in %.2f ms", libraries.size(), (System.nanoTime() - t0) / 1e6));
+            }
+        }
+
+        /**
+         * Returns the shared libraries in the specified JAR files, mapped from file name to resource URL. If a file name appears more than once, the first
+         * entry is used.
+         *
+         * @param jars   the JAR files to scan
+         * @param prefix the JAR entry prefix of the current platform
+         */
+        static Map<String, URL> findLibraries(Iterable<Path> jars, String prefix) {
+            Map<String, URL> libraries = new LinkedHashMap<>();
+            for (Path jar : jars) {
+                try (JarFile jarFile = new JarFile(jar.toFile())) {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (!name.startsWith(prefix) || name.endsWith("/")) {
+                            continue;
+                        }
+
+                        String filename = name.substring(name.lastIndexOf('/') + 1);
+                        if (Platform.get().mapLibraryName(filename).equals(filename)) {
+                            libraries.putIfAbsent(filename, new URL("jar:" + jar.toUri().toURL() + "!/" + name));
+                        }
+                    }
+                } catch (IOException e) {
+                    if (Configuration.DEBUG_LOADER.get(false)) {
+                        apiLog("\tFailed to scan natives JAR: " + jar + " (" + e + ")");
+                    }
+                }
+            }
+            return libraries;
+        }
+
+        /**
+         * Submits the extraction of the specified libraries to {@code directory}. Libraries that already have an extraction task in {@code extractions} are
+         * skipped.
+         *
+         * @param extractions the extraction tasks, mapped from file name. Each task returns the extracted file.
+         *
+         * @return {@code extractions}
+         */
+        static Map<String, Future<Path>> extractAll(
+            Path directory,
+            Map<String, URL> libraries,
+            ExecutorService executor,
+            ConcurrentMap<String, Future<Path>> extractions
+        ) {
+            libraries.forEach((filename, resource) -> {
+                FutureTask<Path> task = extraction(directory.resolve(filename), resource);
+                if (extractions.putIfAbsent(filename, task) == null) {
+                    executor.execute(task);
+                }
+            });
+            return extractions;
+        }
+
+        private static FutureTask<Path> extraction(Path file, URL resource) {
+            return new FutureTask<>(() -> {
+                // only the extraction is required, the lock is released immediately
+                extract(file, resource).close();
+                return file;
+            });
+        }
+
+        /**
+         * Returns true if the specified file is an LWJGL JNI library, i.e. the library of the core module (e.g. {@code liblwjgl.so}) or of a binding
+         * (e.g. {@code liblwjgl_opengl.so}).
+         */
+        static boolean isJNILibrary(String filename) {
+            String mapped = Platform.get().mapLibraryName("lwjgl");
+            int    name   = mapped.indexOf("lwjgl");
+
+            String prefix = mapped.substring(0, name);
+            String suffix = mapped.substring(name + "lwjgl".length());
+            if (!filename.startsWith(prefix) || !filename.endsWith(suffix) || filename.length() < prefix.length() + suffix.length()) {
+                return false;
+            }
+
+            String library = filename.substring(prefix.length(), filename.length() - suffix.length());
+            return library.equals(Platform.mapLibraryNameBundled("lwjgl")) || library.startsWith("lwjgl_");
+        }
+
+        private static void preload(Path file) {
+            try {
+                if (EXTRACTIONS.get(file.getFileName().toString()).get() != null) {
+                    PRELOADED.add(apiCreateLibrary(file.toAbsolutePath().toString()));
+                }
+            } catch (Throwable t) {
+                if (Configuration.DEBUG_LOADER.get(false)) {
+                    apiLog("\tFailed to preload: " + file + " (" + t + ")");
+                }
+            }
+        }
+
+        /** Returns the JAR entry prefix of the bundled libraries for the current platform, e.g. {@code "linux/x64/"}. */
+        @Nullable
+        static String getPlatformPrefix(URL trigger) {
+            String url = trigger.toString();
+
+            int entry = url.indexOf("!/");
+            if (!"jar".equals(trigger.getProtocol()) || entry == -1) {
+                return null;
+            }
+
+            String name = url.substring(entry + 2);
+            int    org  = name.indexOf("org/lwjgl/");
+            return org == -1 ? "" : name.substring(0, org);
+        }
+
+        /** Returns the JAR file that contains the trigger resource and the LWJGL natives JAR files on the classpath. */
+        private static Set<Path> getNativesJars(URL trigger) {
+            Set<Path> jars = new LinkedHashSet<>();
+            try {
+                URLConnection connection = trigger.openConnection();
+                if (connection instanceof JarURLConnection) {
+                    jars.add(Paths.get(((JarURLConnection)connection).getJarFileURL().toURI()));
+                }
+            } catch (Exception ignored) {
+            }
+
+            String classpath = System.getProperty("java.class.path");
+            if (classpath != null) {
+                for (String entry : classpath.split(File.pathSeparator)) {
+                    Path path = Paths.get(entry);
+                    String filename = path.getFileName() == null ? "" : path.getFileName().toString();
+                    if (filename.startsWith("lwjgl") && filename.contains("-natives-") && filename.endsWith(".jar") && Files.isRegularFile(path)) {
+                        jars.add(path.toAbsolutePath());
+                    }
+                }
+            }
+            return jars;
+        }
+
+    }
+
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package org.lwjgl.system;
 import javax.annotation.*;
 import java.nio.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -216,6 +217,22 @@ public abstract class StructBuffer<T extends Struct, SELF extends StructBuffer<T
         }
     }
 
+    /**
+     * Passes the address of each struct between the buffer's current position and limit to the specified consumer, in order.
+     *
+     * <p>Unlike {@link #forEach}, no struct instances are created. The address can be used with the static accessors of the struct class (e.g.
+     * {@code VkExtent2D.nwidth(address)}). The buffer position is not modified.</p>
+     *
+     * @param consumer the consumer to invoke for each struct address
+     */
+    public void forEachAddress(LongConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        int sizeof = sizeof();
+        for (long a = elementAddress(sizeof, position), fence = a + Integer.toUnsignedLong(remaining()) * sizeof; a < fence; a += sizeof) {
+            consumer.accept(a);
+        }
+    }
+
     @Override
     public Spliterator<T> spliterator() {
         return new StructSpliterator<>(address, container, getElementFactory(), position, limit);
@@ -232,12 +249,19 @@ public abstract class StructBuffer<T extends Struct, SELF extends StructBuffer<T
         private int index;
         private int fence;
 
+        private int minSplit;
+
         StructSpliterator(long address, @Nullable ByteBuffer container, T factory, int position, int limit) {
+            this(address, container, factory, position, limit, getMinSplit(factory.sizeof()));
+        }
+
+        private StructSpliterator(long address, @Nullable ByteBuffer container, T factory, int position, int limit, int minSplit) {
             this.address = address;
             this.container = container;
             this.factory = factory;
             this.index = position;
             this.fence = limit;
+            this.minSplit = minSplit;
         }
 
         @Override
@@ -258,8 +282,9 @@ public abstract class StructBuffer<T extends Struct, SELF extends StructBuffer<T
             int lo = index,
                 mid = (lo + fence) >>> 1;
 
-            return lo < mid
-                ? new StructSpliterator<>(address, container, factory, lo, index = mid)
+            // Do not split below the minimum split size, the per-task overhead would dominate.
+            return minSplit <= mid - lo
+                ? new StructSpliterator<>(address, container, factory, lo, index = mid, minSplit)
                 : null;
         }
 
@@ -292,6 +317,168 @@ public abstract class StructBuffer<T extends Struct, SELF extends StructBuffer<T
         }
     }
 
+    /**
+     * Performs the specified action for each index between the buffer's current position and limit, in parallel.
+     *
+     * <p>The index range is split into chunks that are processed by the {@link ForkJoinPool#commonPool common pool} (or the current pool, if called from a
+     * fork/join task), with work-stealing. Chunks are never smaller than {@code 16KB} of struct data. No struct instances are created; the action is
+     * expected to access the struct data via the static accessors of the struct class, or via a struct instance of its own.</p>
+     *
+     * <p>This method returns when all indices have been processed. The buffer position is not modified.</p>
+     *
+     * @param parallelism the expected number of worker threads. The index range is split into approximately {@code 4 * parallelism} chunks. If less than 2,
+     *                    the action is performed sequentially in the current thread.
+     * @param action      the action to perform for each index
+     */
+    public void parallelForEach(int parallelism, IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        int lo = position, hi = limit;
+        int leaf = getLeafSize(parallelism, hi - lo, sizeof());
+        if (hi - lo <= leaf) {
+            for (int i = lo; i < hi; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+
+        invokeParallel(new IndexRangeTask(action, lo, hi, leaf));
+    }
+
+    /**
+     * Like {@link #parallelForEach}, but passes a struct instance to the specified consumer.
+     *
+     * <p>One struct instance is created per chunk and is moved to each struct in the chunk before the consumer is invoked. The instance passed to the
+     * consumer must not be stored or used after the consumer returns.</p>
+     *
+     * @param parallelism the expected number of worker threads. The buffer is split into approximately {@code 4 * parallelism} chunks. If less than 2, the
+     *                    consumer is invoked sequentially in the current thread.
+     * @param consumer    the consumer to invoke for each struct
+     */
+    public void parallelApply(int parallelism, Consumer<T> consumer) {
+        Objects.requireNonNull(consumer);
+
+        T factory = getElementFactory();
+
+        int lo = position, hi = limit;
+        int leaf = getLeafSize(parallelism, hi - lo, factory.sizeof());
+        if (hi - lo <= leaf) {
+            StructRangeTask.apply(address, container, factory, lo, hi, consumer);
+            return;
+        }
+
+        invokeParallel(new StructRangeTask<>(address, container, factory, lo, hi, leaf, consumer));
+    }
+
+    private static final int MIN_SPLIT_BYTES = 16 * 1024;
+
+    private static int getMinSplit(int sizeof) {
+        return Math.max(1, MIN_SPLIT_BYTES / Math.max(1, sizeof));
+    }
+
+    private static int getLeafSize(int parallelism, int count, int sizeof) {
+        if (parallelism < 2) {
+            return Math.max(count, 1);
+        }
+        int chunks = (int)Math.min(parallelism * 4L, Integer.MAX_VALUE);
+        return Math.max(getMinSplit(sizeof), (int)((count + (long)chunks - 1) / chunks));
+    }
+
+    private static void invokeParallel(ForkJoinTask<?> task) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    }
+
+    private static final class IndexRangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer action;
+
+        private final int lo;
+        private final int hi;
+        private final int leaf;
+
+        IndexRangeTask(IntConsumer action, int lo, int hi, int leaf) {
+            this.action = action;
+            this.lo = lo;
+            this.hi = hi;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= leaf) {
+                for (int i = lo; i < hi; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new IndexRangeTask(action, lo, mid, leaf), new IndexRangeTask(action, mid, hi, leaf));
+        }
+
+    }
+
+    private static final class StructRangeTask<T extends Struct> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long address;
+
+        @Nullable
+        private final ByteBuffer container;
+
+        private final T           factory;
+        private final Consumer<T> consumer;
+
+        private final int lo;
+        private final int hi;
+        private final int leaf;
+
+        StructRangeTask(long address, @Nullable ByteBuffer container, T factory, int lo, int hi, int leaf, Consumer<T> consumer) {
+            this.address = address;
+            this.container = container;
+            this.factory = factory;
+            this.lo = lo;
+            this.hi = hi;
+            this.leaf = leaf;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= leaf) {
+                apply(address, container, factory, lo, hi, consumer);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            invokeAll(
+                new StructRangeTask<>(address, container, factory, lo, mid, leaf, consumer),
+                new StructRangeTask<>(address, container, factory, mid, hi, leaf, consumer)
+            );
+        }
+
+        static <T extends Struct> void apply(long address, @Nullable ByteBuffer container, T factory, int lo, int hi, Consumer<T> consumer) {
+            if (hi <= lo) {
+                return;
+            }
+
+            // A single mutable flyweight per chunk.
+            T   struct = factory.wrap(address, lo, container);
+            int sizeof = factory.sizeof();
+            for (int i = lo; i < hi; i++, struct.address += sizeof) {
+                consumer.accept(struct);
+            }
+        }
+
+    }
+
     /** Returns a sequential {@code Stream} with this struct buffer as its source. */
     public Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
@@ -302,6 +489,290 @@ public abstract class StructBuffer<T extends Struct, SELF extends StructBuffer<T
         return StreamSupport.stream(spliterator(), true);
     }
 
+    // --------------------------------------
+    // Strided member copies, used by the generated bulk accessors. Each method copies the member at the specified offset of the structs between the
+    // buffer's current position and limit, from/to the first remaining() elements of the specified array or buffer. Positions are not modified.
+
+    protected final void gather(int offset, byte[] dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, s += sizeof) {
+            dst[i] = UNSAFE.getByte(null, s);
+        }
+    }
+
+    protected final void gather(int offset, ByteBuffer dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        long d = memAddress(dst);
+        for (int i = 0; i < n; i++, s += sizeof) {
+            UNSAFE.putByte(null, d + i, UNSAFE.getByte(null, s));
+        }
+    }
+
+    protected final void scatter(int offset, byte[] src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putByte(null, d, src[i]);
+        }
+    }
+
+    protected final void scatter(int offset, ByteBuffer src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long s = memAddress(src);
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putByte(null, d, UNSAFE.getByte(null, s + i));
+        }
+    }
+
+    protected final void gather(int offset, short[] dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, s += sizeof) {
+            dst[i] = UNSAFE.getShort(null, s);
+        }
+    }
+
+    protected final void gather(int offset, ShortBuffer dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        long d = memAddress(dst);
+        for (int i = 0; i < n; i++, s += sizeof) {
+            UNSAFE.putShort(null, d + ((long)i << 1), UNSAFE.getShort(null, s));
+        }
+    }
+
+    protected final void scatter(int offset, short[] src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putShort(null, d, src[i]);
+        }
+    }
+
+    protected final void scatter(int offset, ShortBuffer src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long s = memAddress(src);
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putShort(null, d, UNSAFE.getShort(null, s + ((long)i << 1)));
+        }
+    }
+
+    protected final void gather(int offset, int[] dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, s += sizeof) {
+            dst[i] = UNSAFE.getInt(null, s);
+        }
+    }
+
+    protected final void gather(int offset, IntBuffer dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        long d = memAddress(dst);
+        for (int i = 0; i < n; i++, s += sizeof) {
+            UNSAFE.putInt(null, d + ((long)i << 2), UNSAFE.getInt(null, s));
+        }
+    }
+
+    protected final void scatter(int offset, int[] src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putInt(null, d, src[i]);
+        }
+    }
+
+    protected final void scatter(int offset, IntBuffer src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long s = memAddress(src);
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putInt(null, d, UNSAFE.getInt(null, s + ((long)i << 2)));
+        }
+    }
+
+    protected final void gather(int offset, long[] dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, s += sizeof) {
+            dst[i] = UNSAFE.getLong(null, s);
+        }
+    }
+
+    protected final void gather(int offset, LongBuffer dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        long d = memAddress(dst);
+        for (int i = 0; i < n; i++, s += sizeof) {
+            UNSAFE.putLong(null, d + ((long)i << 3), UNSAFE.getLong(null, s));
+        }
+    }
+
+    protected final void scatter(int offset, long[] src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putLong(null, d, src[i]);
+        }
+    }
+
+    protected final void scatter(int offset, LongBuffer src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long s = memAddress(src);
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putLong(null, d, UNSAFE.getLong(null, s + ((long)i << 3)));
+        }
+    }
+
+    protected final void gather(int offset, float[] dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, s += sizeof) {
+            dst[i] = UNSAFE.getFloat(null, s);
+        }
+    }
+
+    protected final void gather(int offset, FloatBuffer dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        long d = memAddress(dst);
+        for (int i = 0; i < n; i++, s += sizeof) {
+            UNSAFE.putFloat(null, d + ((long)i << 2), UNSAFE.getFloat(null, s));
+        }
+    }
+
+    protected final void scatter(int offset, float[] src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putFloat(null, d, src[i]);
+        }
+    }
+
+    protected final void scatter(int offset, FloatBuffer src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long s = memAddress(src);
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putFloat(null, d, UNSAFE.getFloat(null, s + ((long)i << 2)));
+        }
+    }
+
+    protected final void gather(int offset, double[] dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, s += sizeof) {
+            dst[i] = UNSAFE.getDouble(null, s);
+        }
+    }
+
+    protected final void gather(int offset, DoubleBuffer dst) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(dst, n);
+        }
+        long s = elementAddress(sizeof, position) + offset;
+        long d = memAddress(dst);
+        for (int i = 0; i < n; i++, s += sizeof) {
+            UNSAFE.putDouble(null, d + ((long)i << 3), UNSAFE.getDouble(null, s));
+        }
+    }
+
+    protected final void scatter(int offset, double[] src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putDouble(null, d, src[i]);
+        }
+    }
+
+    protected final void scatter(int offset, DoubleBuffer src) {
+        int sizeof = sizeof(), n = remaining();
+        if (CHECKS) {
+            Checks.check(src, n);
+        }
+        long s = memAddress(src);
+        long d = elementAddress(sizeof, position) + offset;
+        for (int i = 0; i < n; i++, d += sizeof) {
+            UNSAFE.putDouble(null, d, UNSAFE.getDouble(null, s + ((long)i << 3)));
+        }
+    }
+
+    private long elementAddress(int sizeof, int index) {
+        return address + Integer.toUnsignedLong(index) * sizeof;
+    }
+
     // --------------------------------------
 
     protected abstract T getElementFactory();
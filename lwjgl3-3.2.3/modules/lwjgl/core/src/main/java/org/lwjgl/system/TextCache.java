@@ -0,0 +1,185 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * A cache of null-terminated, natively encoded strings.
+ *
+ * <p>Strings that are passed to native functions repeatedly (e.g. shader uniform names, file paths) are encoded once and the encoded text is reused on
+ * subsequent calls. Encoding a cached string costs a hash lookup. The cache is bounded; when full, the least-recently used string is evicted and its
+ * encoded text is freed.</p>
+ *
+ * <p>The encoded text of a string remains valid until the string is evicted. Eviction may only happen when a string that is not in the cache is encoded.
+ * Consequently, the last {@code capacity} strings encoded are guaranteed to be valid, which makes it safe to encode all string arguments of a function call
+ * before calling it, as long as the number of arguments does not exceed the cache capacity.</p>
+ *
+ * <p>On Java 9 or higher, strings that contain ASCII characters only are encoded with a bulk copy.</p>
+ *
+ * <p>This class is not thread-safe. Use a separate cache per thread, or synchronize externally.</p>
+ */
+public final class TextCache implements NativeResource {
+
+    private final int     capacity;
+    private final boolean utf16;
+
+    private final LinkedHashMap<String, Encoded> entries;
+
+    private long bytes;
+
+    private TextCache(int capacity, boolean utf16) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.utf16 = utf16;
+        this.entries = new LinkedHashMap<String, Encoded>(capacity + (capacity >>> 1), 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Encoded> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                release(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Creates a new {@code TextCache} that encodes strings using UTF-8 encoding.
+     *
+     * @param capacity the maximum number of cached strings
+     */
+    public static TextCache createUTF8(int capacity) {
+        return new TextCache(capacity, false);
+    }
+
+    /**
+     * Creates a new {@code TextCache} that encodes strings using UTF-16 encoding.
+     *
+     * @param capacity the maximum number of cached strings
+     */
+    public static TextCache createUTF16(int capacity) {
+        return new TextCache(capacity, true);
+    }
+
+    /** Returns the maximum number of cached strings. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Returns the number of cached strings. */
+    public int size() {
+        return entries.size();
+    }
+
+    /** Returns the total number of bytes used by the cached strings, including null-terminators. */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the address of the null-terminated encoded text of the specified string.
+     *
+     * @param text the text to encode
+     */
+    public long nencode(String text) {
+        return get(text).address;
+    }
+
+    /** Like {@link #nencode}, but returns {@link MemoryUtil#NULL NULL} if {@code text} is {@code null}. */
+    public long nencodeSafe(@Nullable String text) {
+        return text == null ? NULL : get(text).address;
+    }
+
+    /**
+     * Returns a ByteBuffer that points to the null-terminated encoded text of the specified string.
+     *
+     * <p>The buffer includes the null-terminator. It must not be modified or freed.</p>
+     *
+     * @param text the text to encode
+     */
+    public ByteBuffer encode(String text) {
+        Encoded encoded = get(text);
+        return memByteBuffer(encoded.address, encoded.length);
+    }
+
+    /** Like {@link #encode}, but returns {@code null} if {@code text} is {@code null}. */
+    @Nullable
+    public ByteBuffer encodeSafe(@Nullable String text) {
+        return text == null ? null : encode(text);
+    }
+
+    /** Evicts all strings from the cache and frees their encoded text. */
+    public void clear() {
+        for (Encoded encoded : entries.values()) {
+            release(encoded);
+        }
+        entries.clear();
+    }
+
+    /** Calls {@link #clear}. */
+    @Override
+    public void free() {
+        clear();
+    }
+
+    private Encoded get(String text) {
+        Encoded encoded = entries.get(text);
+        if (encoded == null) {
+            encoded = utf16 ? encodeUTF16(text) : encodeUTF8(text);
+            bytes += encoded.length;
+            entries.put(text, encoded);
+        }
+        return encoded;
+    }
+
+    private void release(Encoded encoded) {
+        bytes -= encoded.length;
+        nmemFree(encoded.address);
+    }
+
+    private static Encoded encodeUTF8(String text) {
+        byte[] ascii = MultiReleaseTextDecoding.getASCII(text);
+        if (ascii != null) {
+            int  length  = ascii.length;
+            long address = nmemAllocChecked(length + 1);
+            memByteBuffer(address, length).put(ascii);
+            memPutByte(address + length, (byte)0);
+            return new Encoded(address, length + 1);
+        }
+
+        int  length  = memLengthUTF8(text, true);
+        long address = nmemAllocChecked(length);
+        MemoryUtil.encodeUTF8(text, true, address);
+        return new Encoded(address, length);
+    }
+
+    private static Encoded encodeUTF16(String text) {
+        int  length  = memLengthUTF16(text, true);
+        long address = nmemAllocChecked(length);
+        MemoryUtil.encodeUTF16(text, true, address);
+        return new Encoded(address, length);
+    }
+
+    private static final class Encoded {
+        final long address;
+        final int  length;
+
+        Encoded(long address, int length) {
+            this.address = address;
+            this.length = length;
+        }
+    }
+
+}
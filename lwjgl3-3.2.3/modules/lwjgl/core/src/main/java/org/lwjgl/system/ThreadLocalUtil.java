@@ -170,14 +170,21 @@ public final class ThreadLocalUtil {
         }
     }
 
-    private static List<Field> getFieldsFromCapabilities(Class<?> capabilitiesClass) {
-        List<Field> fields = new ArrayList<>();
-        for (Field field : capabilitiesClass.getFields()) {
-            if (field.getType() == long.class) {
-                fields.add(field);
+    private static final ClassValue<List<Field>> CAPABILITIES_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> capabilitiesClass) {
+            List<Field> fields = new ArrayList<>();
+            for (Field field : capabilitiesClass.getFields()) {
+                if (field.getType() == long.class) {
+                    fields.add(field);
+                }
             }
+            return Collections.unmodifiableList(fields);
         }
-        return fields;
+    };
+
+    private static List<Field> getFieldsFromCapabilities(Class<?> capabilitiesClass) {
+        return CAPABILITIES_FIELDS.get(capabilitiesClass);
     }
 
     // Ensures FUNCTION_MISSING_ABORT will be called even if no context is current,
@@ -0,0 +1,50 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import static org.lwjgl.system.MathUtil.*;
+
+/** Hashing utilities shared by the open-addressing collections. */
+final class Hashing {
+
+    /** The minimum table capacity. */
+    static final int MIN_CAPACITY = 8;
+
+    /** The maximum table capacity. */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {
+    }
+
+    /** Returns the table capacity required to store {@code expectedSize} keys at a load factor of 50%. */
+    static int tableCapacity(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Invalid expected size: " + expectedSize);
+        }
+        if ((MAX_CAPACITY >> 1) < expectedSize) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, mathRoundPoT(expectedSize << 1));
+    }
+
+    /** Returns the shift that maps a 64-bit hash to an index in a table of the specified power-of-two capacity. */
+    static int tableShift(int capacity) {
+        return Integer.numberOfLeadingZeros(capacity) + 33;
+    }
+
+    /** Fibonacci hashing; the top {@code 64 - shift} bits of the product are well distributed, even for keys that are aligned addresses. */
+    static int index(long key, int shift) {
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    /** Returns the capacity after growing a table of the specified capacity. */
+    static int grow(int capacity) {
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum capacity exceeded");
+        }
+        return capacity << 1;
+    }
+
+}
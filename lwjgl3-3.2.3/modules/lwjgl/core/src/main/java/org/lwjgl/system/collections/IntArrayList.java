@@ -0,0 +1,218 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.system.*;
+
+import java.nio.*;
+import java.util.function.*;
+
+import static org.lwjgl.system.Checks.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.libc.LibCString.*;
+
+/**
+ * A growable list of {@code int} values.
+ *
+ * <p>Values are stored contiguously off-heap and can be passed directly to native functions, via {@link #address} or {@link #buffer}. The storage is
+ * allocated on the first insertion and reallocated when the list grows. It must be explicitly freed with {@link #free}.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class IntArrayList implements NativeResource {
+
+    private final int initialCapacity;
+
+    private long address;
+    private int  capacity;
+    private int  size;
+
+    /** Creates an empty list. */
+    public IntArrayList() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty list that can hold the specified number of values without growing.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+        this.initialCapacity = Math.max(1, initialCapacity);
+    }
+
+    /** Returns the number of values in the list. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the list contains no values. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Returns the number of values the list can hold without growing. */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the address of the first value in the list.
+     *
+     * <p>The address is invalidated when the list grows or is freed.</p>
+     */
+    public long address() {
+        return address;
+    }
+
+    /**
+     * Returns an {@link IntBuffer} view of the values in the list. The buffer position is 0 and its limit is equal to the list size.
+     *
+     * <p>The buffer is invalidated when the list grows or is freed.</p>
+     */
+    public IntBuffer buffer() {
+        if (address == NULL) {
+            grow(initialCapacity);
+        }
+        return memIntBuffer(address, size);
+    }
+
+    /** Appends the specified value to the end of the list. */
+    public void add(int value) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        memPutInt(address + ((long)size++ << 2), value);
+    }
+
+    /** Appends the remaining values in the specified buffer to the end of the list. The buffer position is not modified. */
+    public void addAll(IntBuffer values) {
+        int count = values.remaining();
+        if (count == 0) {
+            return;
+        }
+        if (capacity - size < count) {
+            grow(size + count);
+        }
+        if (values.isDirect()) {
+            memCopy(memAddress(values), address + ((long)size << 2), (long)count << 2);
+        } else {
+            memIntBuffer(address + ((long)size << 2), count).put(values.duplicate());
+        }
+        size += count;
+    }
+
+    /** Returns the value at the specified index. */
+    public int get(int index) {
+        if (CHECKS) {
+            checkIndex(index);
+        }
+        return memGetInt(address + ((long)index << 2));
+    }
+
+    /** Replaces the value at the specified index and returns the previous value. */
+    public int set(int index, int value) {
+        if (CHECKS) {
+            checkIndex(index);
+        }
+        long element  = address + ((long)index << 2);
+        int  previous = memGetInt(element);
+        memPutInt(element, value);
+        return previous;
+    }
+
+    /** Removes the value at the specified index, shifting subsequent values to the left, and returns it. */
+    public int removeAt(int index) {
+        if (CHECKS) {
+            checkIndex(index);
+        }
+        long element  = address + ((long)index << 2);
+        int  previous = memGetInt(element);
+        size--;
+        if (index < size) {
+            nmemmove(element, element + 4, (long)(size - index) << 2);
+        }
+        return previous;
+    }
+
+    /** Removes the last value in the list and returns it. */
+    public int removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("The list is empty");
+        }
+        return memGetInt(address + ((long)--size << 2));
+    }
+
+    /** Returns the index of the first occurrence of the specified value, or -1 if the list does not contain it. */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (memGetInt(address + ((long)i << 2)) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Ensures that the list can hold at least the specified number of values without growing. */
+    public void ensureCapacity(int minCapacity) {
+        if (capacity < minCapacity) {
+            grow(minCapacity);
+        }
+    }
+
+    /** Invokes the specified consumer for each value in the list, in order. */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(memGetInt(address + ((long)i << 2)));
+        }
+    }
+
+    /** Returns a new array that contains the values in the list. */
+    public int[] toArray() {
+        int[] array = new int[size];
+        if (size != 0) {
+            memIntBuffer(address, size).get(array);
+        }
+        return array;
+    }
+
+    /** Removes all values from the list. The storage is retained. */
+    public void clear() {
+        size = 0;
+    }
+
+    /** Frees the storage and removes all values from the list. */
+    @Override
+    public void free() {
+        nmemFree(address);
+        address = NULL;
+        capacity = 0;
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || size <= index) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalStateException("Maximum capacity exceeded");
+        }
+
+        int newCapacity = Math.max(capacity == 0 ? initialCapacity : capacity + (capacity >> 1), minCapacity);
+        if (newCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+
+        address = nmemReallocChecked(address, Integer.toUnsignedLong(newCapacity) << 2);
+        capacity = newCapacity;
+    }
+
+}
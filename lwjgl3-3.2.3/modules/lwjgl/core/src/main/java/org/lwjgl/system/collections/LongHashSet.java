@@ -0,0 +1,217 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.system.*;
+
+import java.util.function.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.collections.Hashing.*;
+
+/**
+ * A hash set of {@code long} values.
+ *
+ * <p>Values are stored off-heap, in a single open-addressing table. The table is allocated on the first insertion and reallocated when the set grows. It
+ * must be explicitly freed with {@link #free}.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class LongHashSet implements NativeResource {
+
+    private final int initialCapacity;
+
+    // Value 0 marks an empty slot, membership of 0 is tracked separately.
+    private long table;
+    private int  capacity;
+    private int  shift;
+    private int  size;
+
+    private boolean hasZero;
+
+    /** Creates an empty set. */
+    public LongHashSet() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty set that can hold the specified number of values without growing.
+     *
+     * @param expectedSize the expected number of values
+     */
+    public LongHashSet(int expectedSize) {
+        this.initialCapacity = tableCapacity(expectedSize);
+    }
+
+    /** Returns the number of values in the set. */
+    public int size() {
+        return hasZero ? size + 1 : size;
+    }
+
+    /** Returns true if the set contains no values. */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Returns true if the set contains the specified value. */
+    public boolean contains(long value) {
+        if (value == 0L) {
+            return hasZero;
+        }
+        return find(value) != -1;
+    }
+
+    /**
+     * Adds the specified value to the set.
+     *
+     * @return true if the set did not already contain {@code value}
+     */
+    public boolean add(long value) {
+        if (value == 0L) {
+            if (hasZero) {
+                return false;
+            }
+            return hasZero = true;
+        }
+
+        if (table == NULL) {
+            allocate(initialCapacity);
+        }
+
+        int mask = capacity - 1;
+        for (int i = index(value, shift); ; i = (i + 1) & mask) {
+            long slot = table + ((long)i << 3);
+            long v    = memGetLong(slot);
+            if (v == value) {
+                return false;
+            }
+            if (v == 0L) {
+                memPutLong(slot, value);
+                if (capacity < ++size << 1) {
+                    rehash(grow(capacity));
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the specified value from the set.
+     *
+     * @return true if the set contained {@code value}
+     */
+    public boolean remove(long value) {
+        if (value == 0L) {
+            boolean contained = hasZero;
+            hasZero = false;
+            return contained;
+        }
+
+        int i = find(value);
+        if (i == -1) {
+            return false;
+        }
+
+        // Backward-shift deletion, keeps probe sequences intact without tombstones.
+        int mask = capacity - 1;
+        int hole = i;
+        for (int j = (hole + 1) & mask; ; j = (j + 1) & mask) {
+            long v = memGetLong(table + ((long)j << 3));
+            if (v == 0L) {
+                break;
+            }
+
+            int home = index(v, shift);
+            if (((j - hole) & mask) <= ((j - home) & mask)) {
+                memPutLong(table + ((long)hole << 3), v);
+                hole = j;
+            }
+        }
+        memPutLong(table + ((long)hole << 3), 0L);
+        size--;
+
+        return true;
+    }
+
+    /** Invokes the specified consumer for each value in the set, in no particular order. The set must not be modified during iteration. */
+    public void forEach(LongConsumer consumer) {
+        if (hasZero) {
+            consumer.accept(0L);
+        }
+        for (int i = 0; i < capacity; i++) {
+            long v = memGetLong(table + ((long)i << 3));
+            if (v != 0L) {
+                consumer.accept(v);
+            }
+        }
+    }
+
+    /** Removes all values from the set. The table is retained. */
+    public void clear() {
+        if (table != NULL) {
+            memSet(table, 0, (long)capacity << 3);
+        }
+        size = 0;
+        hasZero = false;
+    }
+
+    /** Frees the table and removes all values from the set. */
+    @Override
+    public void free() {
+        nmemFree(table);
+        table = NULL;
+        capacity = 0;
+        shift = 0;
+        size = 0;
+        hasZero = false;
+    }
+
+    private int find(long value) {
+        if (table == NULL) {
+            return -1;
+        }
+
+        int mask = capacity - 1;
+        for (int i = index(value, shift); ; i = (i + 1) & mask) {
+            long v = memGetLong(table + ((long)i << 3));
+            if (v == value) {
+                return i;
+            }
+            if (v == 0L) {
+                return -1;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.table = nmemCallocChecked(capacity, 8L);
+        this.capacity = capacity;
+        this.shift = tableShift(capacity);
+    }
+
+    private void rehash(int newCapacity) {
+        long oldTable    = table;
+        int  oldCapacity = capacity;
+
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            long v = memGetLong(oldTable + ((long)i << 3));
+            if (v == 0L) {
+                continue;
+            }
+
+            int j = index(v, shift);
+            while (memGetLong(table + ((long)j << 3)) != 0L) {
+                j = (j + 1) & mask;
+            }
+            memPutLong(table + ((long)j << 3), v);
+        }
+
+        nmemFree(oldTable);
+    }
+
+}
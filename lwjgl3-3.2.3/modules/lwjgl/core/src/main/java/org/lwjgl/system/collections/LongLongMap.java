@@ -0,0 +1,290 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.system.*;
+import org.lwjgl.system.MemoryUtil.*;
+
+import javax.annotation.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.collections.Hashing.*;
+
+/**
+ * A hash map with {@code long} keys and {@code long} values.
+ *
+ * <p>Entries are stored off-heap, as interleaved key-value pairs in a single open-addressing table. Lookups touch one cache line in the common case and no
+ * Java objects are allocated, except when iterating with a capturing lambda.</p>
+ *
+ * <p>The table is allocated on the first insertion and reallocated when the map grows. It must be explicitly freed with {@link #free}.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class LongLongMap implements NativeResource {
+
+    /** Consumes the entries of a {@link LongLongMap}. */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final int ENTRY_SHIFT = 4;
+
+    private final int initialCapacity;
+
+    @Nullable
+    private final MemoryAllocator allocator;
+
+    // Key 0 marks an empty slot, the entry for key 0 is stored separately.
+    private long table;
+    private int  capacity;
+    private int  shift;
+    private int  size;
+
+    private boolean hasZeroKey;
+    private long    zeroValue;
+
+    /** Creates an empty map. */
+    public LongLongMap() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty map that can hold the specified number of entries without growing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongLongMap(int expectedSize) {
+        this(expectedSize, null);
+    }
+
+    /**
+     * Creates an empty map that allocates its table with the specified allocator.
+     *
+     * <p>This can be used by allocators to track their own allocations, without going through the explicit memory management API.</p>
+     *
+     * @param expectedSize the expected number of entries
+     * @param allocator    the allocator to use, or {@code null} to use the explicit memory management API
+     */
+    public LongLongMap(int expectedSize, @Nullable MemoryAllocator allocator) {
+        this.initialCapacity = tableCapacity(expectedSize);
+        this.allocator = allocator;
+    }
+
+    /** Returns the number of entries in the map. */
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    /** Returns true if the map contains no entries. */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Returns true if the map contains an entry for the specified key. */
+    public boolean containsKey(long key) {
+        if (key == 0L) {
+            return hasZeroKey;
+        }
+        return find(key) != NULL;
+    }
+
+    /**
+     * Returns the value associated with the specified key.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return if the map contains no entry for {@code key}
+     */
+    public long get(long key, long defaultValue) {
+        if (key == 0L) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        long entry = find(key);
+        return entry == NULL ? defaultValue : memGetLong(entry + 8);
+    }
+
+    /**
+     * Associates the specified value with the specified key.
+     *
+     * @return the previous value associated with {@code key}, or 0 if there was none
+     */
+    public long put(long key, long value) {
+        if (key == 0L) {
+            long previous = hasZeroKey ? zeroValue : 0L;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+
+        if (table == NULL) {
+            allocate(initialCapacity);
+        }
+
+        int mask = capacity - 1;
+        for (int i = index(key, shift); ; i = (i + 1) & mask) {
+            long entry = table + ((long)i << ENTRY_SHIFT);
+            long k     = memGetLong(entry);
+            if (k == key) {
+                long previous = memGetLong(entry + 8);
+                memPutLong(entry + 8, value);
+                return previous;
+            }
+            if (k == 0L) {
+                memPutLong(entry, key);
+                memPutLong(entry + 8, value);
+                if (capacity < ++size << 1) {
+                    rehash(grow(capacity));
+                }
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key.
+     *
+     * @return the value that was associated with {@code key}, or 0 if there was none
+     */
+    public long remove(long key) {
+        if (key == 0L) {
+            long previous = hasZeroKey ? zeroValue : 0L;
+            hasZeroKey = false;
+            zeroValue = 0L;
+            return previous;
+        }
+
+        long entry = find(key);
+        if (entry == NULL) {
+            return 0L;
+        }
+
+        long previous = memGetLong(entry + 8);
+
+        // Backward-shift deletion, keeps probe sequences intact without tombstones.
+        int mask = capacity - 1;
+        int hole = (int)((entry - table) >>> ENTRY_SHIFT);
+        for (int j = (hole + 1) & mask; ; j = (j + 1) & mask) {
+            long e = table + ((long)j << ENTRY_SHIFT);
+            long k = memGetLong(e);
+            if (k == 0L) {
+                break;
+            }
+
+            int home = index(k, shift);
+            if (((j - hole) & mask) <= ((j - home) & mask)) {
+                long h = table + ((long)hole << ENTRY_SHIFT);
+                memPutLong(h, k);
+                memPutLong(h + 8, memGetLong(e + 8));
+                hole = j;
+            }
+        }
+        memPutLong(table + ((long)hole << ENTRY_SHIFT), 0L);
+        size--;
+
+        return previous;
+    }
+
+    /** Invokes the specified consumer for each entry in the map, in no particular order. The map must not be modified during iteration. */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0L, zeroValue);
+        }
+        for (int i = 0; i < capacity; i++) {
+            long entry = table + ((long)i << ENTRY_SHIFT);
+            long k     = memGetLong(entry);
+            if (k != 0L) {
+                consumer.accept(k, memGetLong(entry + 8));
+            }
+        }
+    }
+
+    /** Removes all entries from the map. The table is retained. */
+    public void clear() {
+        if (table != NULL) {
+            memSet(table, 0, (long)capacity << ENTRY_SHIFT);
+        }
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = 0L;
+    }
+
+    /** Frees the table and removes all entries from the map. */
+    @Override
+    public void free() {
+        freeTable(table);
+        table = NULL;
+        capacity = 0;
+        shift = 0;
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = 0L;
+    }
+
+    private long find(long key) {
+        if (table == NULL) {
+            return NULL;
+        }
+
+        int mask = capacity - 1;
+        for (int i = index(key, shift); ; i = (i + 1) & mask) {
+            long entry = table + ((long)i << ENTRY_SHIFT);
+            long k     = memGetLong(entry);
+            if (k == key) {
+                return entry;
+            }
+            if (k == 0L) {
+                return NULL;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        long table;
+        if (allocator == null) {
+            table = nmemCallocChecked(capacity, 1L << ENTRY_SHIFT);
+        } else {
+            table = allocator.calloc(capacity, 1L << ENTRY_SHIFT);
+            if (table == NULL) {
+                throw new OutOfMemoryError();
+            }
+        }
+        this.table = table;
+        this.capacity = capacity;
+        this.shift = tableShift(capacity);
+    }
+
+    private void rehash(int newCapacity) {
+        long oldTable    = table;
+        int  oldCapacity = capacity;
+
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            long entry = oldTable + ((long)i << ENTRY_SHIFT);
+            long k     = memGetLong(entry);
+            if (k == 0L) {
+                continue;
+            }
+
+            int j = index(k, shift);
+            while (memGetLong(table + ((long)j << ENTRY_SHIFT)) != 0L) {
+                j = (j + 1) & mask;
+            }
+            memCopy(entry, table + ((long)j << ENTRY_SHIFT), 1L << ENTRY_SHIFT);
+        }
+
+        freeTable(oldTable);
+    }
+
+    private void freeTable(long table) {
+        if (allocator == null) {
+            nmemFree(table);
+        } else if (table != NULL) {
+            allocator.free(table);
+        }
+    }
+
+}
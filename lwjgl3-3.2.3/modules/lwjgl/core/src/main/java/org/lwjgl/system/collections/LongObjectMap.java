@@ -0,0 +1,268 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.lwjgl.system.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.system.collections.Hashing.*;
+
+/**
+ * A hash map with {@code long} keys and object values.
+ *
+ * <p>Keys are stored off-heap, in an open-addressing table. Values are stored in a parallel Java array, at the same index as their key. Compared to a
+ * {@code HashMap<Long, V>}, no {@code Long} or entry objects are allocated and the probe sequence only touches the off-heap keys.</p>
+ *
+ * <p>The table is allocated on the first insertion and reallocated when the map grows. It must be explicitly freed with {@link #free}.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @param <V> the value type
+ */
+public class LongObjectMap<V> implements NativeResource {
+
+    /**
+     * Consumes the entries of a {@link LongObjectMap}.
+     *
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private static final Object[] EMPTY = {};
+
+    private final int initialCapacity;
+
+    // Key 0 marks an empty slot, the entry for key 0 is stored separately.
+    private long     keys;
+    private Object[] values = EMPTY;
+    private int      capacity;
+    private int      shift;
+    private int      size;
+
+    private boolean hasZeroKey;
+    @Nullable
+    private V       zeroValue;
+
+    /** Creates an empty map. */
+    public LongObjectMap() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty map that can hold the specified number of entries without growing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongObjectMap(int expectedSize) {
+        this.initialCapacity = tableCapacity(expectedSize);
+    }
+
+    /** Returns the number of entries in the map. */
+    public int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    /** Returns true if the map contains no entries. */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Returns true if the map contains an entry for the specified key. */
+    public boolean containsKey(long key) {
+        if (key == 0L) {
+            return hasZeroKey;
+        }
+        return find(key) != -1;
+    }
+
+    /** Returns the value associated with the specified key, or {@code null} if the map contains no entry for {@code key}. */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0L) {
+            return zeroValue;
+        }
+        int i = find(key);
+        return i == -1 ? null : (V)values[i];
+    }
+
+    /**
+     * Associates the specified value with the specified key.
+     *
+     * @return the previous value associated with {@code key}, or {@code null} if there was none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0L) {
+            V previous = zeroValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+
+        if (keys == NULL) {
+            allocate(initialCapacity);
+        }
+
+        int mask = capacity - 1;
+        for (int i = index(key, shift); ; i = (i + 1) & mask) {
+            long slot = keys + ((long)i << 3);
+            long k    = memGetLong(slot);
+            if (k == key) {
+                V previous = (V)values[i];
+                values[i] = value;
+                return previous;
+            }
+            if (k == 0L) {
+                memPutLong(slot, key);
+                values[i] = value;
+                if (capacity < ++size << 1) {
+                    rehash(grow(capacity));
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key.
+     *
+     * @return the value that was associated with {@code key}, or {@code null} if there was none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0L) {
+            V previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            return previous;
+        }
+
+        int i = find(key);
+        if (i == -1) {
+            return null;
+        }
+
+        V previous = (V)values[i];
+
+        // Backward-shift deletion, keeps probe sequences intact without tombstones.
+        int mask = capacity - 1;
+        int hole = i;
+        for (int j = (hole + 1) & mask; ; j = (j + 1) & mask) {
+            long k = memGetLong(keys + ((long)j << 3));
+            if (k == 0L) {
+                break;
+            }
+
+            int home = index(k, shift);
+            if (((j - hole) & mask) <= ((j - home) & mask)) {
+                memPutLong(keys + ((long)hole << 3), k);
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        memPutLong(keys + ((long)hole << 3), 0L);
+        values[hole] = null;
+        size--;
+
+        return previous;
+    }
+
+    /** Invokes the specified consumer for each entry in the map, in no particular order. The map must not be modified during iteration. */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0L, zeroValue);
+        }
+        for (int i = 0; i < capacity; i++) {
+            long k = memGetLong(keys + ((long)i << 3));
+            if (k != 0L) {
+                consumer.accept(k, (V)values[i]);
+            }
+        }
+    }
+
+    /** Removes all entries from the map. The table is retained. */
+    public void clear() {
+        if (keys != NULL) {
+            memSet(keys, 0, (long)capacity << 3);
+            Arrays.fill(values, null);
+        }
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+    }
+
+    /** Frees the table and removes all entries from the map. */
+    @Override
+    public void free() {
+        nmemFree(keys);
+        keys = NULL;
+        values = EMPTY;
+        capacity = 0;
+        shift = 0;
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+    }
+
+    private int find(long key) {
+        if (keys == NULL) {
+            return -1;
+        }
+
+        int mask = capacity - 1;
+        for (int i = index(key, shift); ; i = (i + 1) & mask) {
+            long k = memGetLong(keys + ((long)i << 3));
+            if (k == key) {
+                return i;
+            }
+            if (k == 0L) {
+                return -1;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = nmemCallocChecked(capacity, 8L);
+        this.values = new Object[capacity];
+        this.capacity = capacity;
+        this.shift = tableShift(capacity);
+    }
+
+    private void rehash(int newCapacity) {
+        long     oldKeys     = keys;
+        Object[] oldValues   = values;
+        int      oldCapacity = capacity;
+
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            long k = memGetLong(oldKeys + ((long)i << 3));
+            if (k == 0L) {
+                continue;
+            }
+
+            int j = index(k, shift);
+            while (memGetLong(keys + ((long)j << 3)) != 0L) {
+                j = (j + 1) & mask;
+            }
+            memPutLong(keys + ((long)j << 3), k);
+            values[j] = oldValues[i];
+        }
+
+        nmemFree(oldKeys);
+    }
+
+}
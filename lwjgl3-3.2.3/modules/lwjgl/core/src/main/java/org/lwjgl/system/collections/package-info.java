@@ -0,0 +1,16 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+
+/**
+ * Primitive collections backed by off-heap memory.
+ *
+ * <p>The collections in this package store {@code int} and {@code long} elements without boxing, in memory allocated with the {@link org.lwjgl.system.MemoryUtil}
+ * allocator. They implement {@link org.lwjgl.system.NativeResource} and the memory must be explicitly freed. A freed collection is empty and may be reused.</p>
+ *
+ * <p>The hash-based collections use open addressing with linear probing and backward-shift deletion. None of the collections in this package are
+ * thread-safe.</p>
+ */
+@org.lwjgl.system.NonnullDefault
+package org.lwjgl.system.collections;
@@ -0,0 +1,41 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+final class MultiReleaseMemCompare {
+
+    static {
+        apiLog("Java 11 memcmp enabled");
+    }
+
+    private static final int MAX_CHUNK = Integer.MAX_VALUE & ~7;
+
+    private MultiReleaseMemCompare() {
+    }
+
+    static long mismatch(long a, long b, long bytes) {
+        // A custom Java loop is fastest at small sizes, approximately up to 64 bytes.
+        if (bytes < 64) {
+            return memMismatchAligned(a, b, bytes);
+        }
+
+        // ByteBuffer.mismatch is backed by the vectorizedMismatch intrinsic on Java 11+
+        long i = 0L;
+        do {
+            int length   = (int)Math.min(bytes - i, MAX_CHUNK);
+            int mismatch = wrap(BUFFER_BYTE, a + i, length).mismatch(wrap(BUFFER_BYTE, b + i, length));
+            if (mismatch != -1) {
+                return i + mismatch;
+            }
+            i += length;
+        } while (i < bytes);
+
+        return -1L;
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import javax.annotation.*;
+import java.lang.foreign.*;
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import static java.lang.foreign.ValueLayout.*;
+import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.jni.JNINativeInterface.*;
+
+/** Support for the Foreign Function &amp; Memory backend of the {@link JNI} class. */
+final class FFM {
+
+    /** True if {@link JNI} methods are dispatched via downcall handles. */
+    static final boolean ENABLED;
+
+    private static final boolean CRITICAL;
+
+    private static final Linker LINKER = Linker.nativeLinker();
+
+    /** The layout of the C {@code long} type. 32-bit on Windows, 64-bit on other platforms. */
+    static final MemoryLayout C_LONG = LINKER.canonicalLayouts().get("long");
+
+    private static final MethodHandle OF_ADDRESS;
+
+    static {
+        boolean enabled = Configuration.JNI_FFM.get(false);
+        if (enabled && !Pointer.BITS64) {
+            apiLog("[JNI] The FFM backend requires a 64-bit JVM, using JNI");
+            enabled = false;
+        }
+
+        ENABLED = enabled;
+        CRITICAL = enabled && Configuration.JNI_FFM_CRITICAL.get(false);
+
+        if (ENABLED) {
+            apiLog("[JNI] FFM backend enabled" + (CRITICAL ? " (critical functions)" : ""));
+        }
+
+        try {
+            OF_ADDRESS = MethodHandles.lookup().findStatic(MemorySegment.class, "ofAddress", MethodType.methodType(MemorySegment.class, long.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private FFM() {
+    }
+
+    /**
+     * Creates a downcall handle with the specified layouts.
+     *
+     * <p>The returned method handle has the same type as the corresponding {@link JNI} method: the function address is the last parameter and
+     * {@link #C_LONG} values are passed as Java {@code long} values.</p>
+     *
+     * @param critical        true if all native functions with this signature are in the critical function list of the generator
+     * @param returnLayout    the return value layout, or {@code null} for {@code void} functions
+     * @param argumentLayouts the argument layouts
+     */
+    static MethodHandle downcall(boolean critical, @Nullable MemoryLayout returnLayout, MemoryLayout... argumentLayouts) {
+        FunctionDescriptor descriptor = returnLayout == null
+            ? FunctionDescriptor.ofVoid(argumentLayouts)
+            : FunctionDescriptor.of(returnLayout, argumentLayouts);
+
+        MethodHandle handle = critical && CRITICAL
+            ? LINKER.downcallHandle(descriptor, Linker.Option.critical(false))
+            : LINKER.downcallHandle(descriptor);
+
+        // (MemorySegment, args...) -> (long, args...) -> (args..., long)
+        handle = MethodHandles.filterArguments(handle, 0, OF_ADDRESS);
+
+        int   count   = argumentLayouts.length;
+        int[] reorder = new int[count + 1];
+        reorder[0] = count;
+        for (int i = 0; i < count; i++) {
+            reorder[i + 1] = i;
+        }
+
+        Class<?>[] parameters = new Class<?>[count + 1];
+        for (int i = 0; i < count; i++) {
+            parameters[i] = carrier(argumentLayouts[i]);
+        }
+        parameters[count] = long.class;
+
+        Class<?> returnType = returnLayout == null ? void.class : carrier(returnLayout);
+
+        handle = MethodHandles.permuteArguments(handle, handle.type().dropParameterTypes(0, 1).appendParameterTypes(long.class), reorder);
+        return MethodHandles.explicitCastArguments(handle, MethodType.methodType(returnType, parameters));
+    }
+
+    private static Class<?> carrier(MemoryLayout layout) {
+        return layout == C_LONG ? long.class : ((ValueLayout)layout).carrier();
+    }
+
+    static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException)t;
+        }
+        if (t instanceof Error) {
+            throw (Error)t;
+        }
+        return new IllegalStateException(t);
+    }
+
+    /**
+     * Binds the private {@code native} methods of the specified class to the JNI functions of the corresponding public methods.
+     *
+     * <p>The JNI function of a method named {@code nfoo} is exported as {@code Java_<class>_foo__<args>}, so it is not found by the default JNI method lookup.
+     * This method is a no-op if the FFM backend is enabled.</p>
+     */
+    static void registerNatives(Class<?> clazz) {
+        if (ENABLED) {
+            return;
+        }
+
+        List<Method> natives = new ArrayList<>();
+        for (Method m : clazz.getDeclaredMethods()) {
+            if (Modifier.isNative(m.getModifiers()) && Modifier.isPrivate(m.getModifiers())) {
+                natives.add(m);
+            }
+        }
+        if (natives.isEmpty()) {
+            return;
+        }
+
+        String       prefix = "Java_" + clazz.getName().replace('.', '_') + "_";
+        SymbolLookup lookup = SymbolLookup.loaderLookup();
+
+        // MemoryUtil is not used here, its initialization may call JNI methods.
+        try (Arena arena = Arena.ofConfined()) {
+            // struct JNINativeMethod { char *name; char *signature; void *fnPtr; }
+            long          stride  = 3 * ADDRESS.byteSize();
+            MemorySegment methods = arena.allocate(stride * natives.size(), ADDRESS.byteAlignment());
+
+            int count = 0;
+            for (Method m : natives) {
+                StringBuilder descriptor = new StringBuilder(16).append('(');
+                int           argBytes   = 2 * (int)ADDRESS.byteSize();
+                for (Class<?> p : m.getParameterTypes()) {
+                    descriptor.append(descriptor(p));
+                    argBytes += p == long.class || p == double.class ? 8 : 4;
+                }
+                String args = descriptor.substring(1);
+                descriptor.append(')').append(descriptor(m.getReturnType()));
+
+                String symbol = prefix + m.getName().substring(1) + "__" + args;
+
+                Optional<MemorySegment> function = lookup.find(symbol);
+                if (function.isEmpty()) {
+                    // __stdcall decoration on 32-bit Windows
+                    function = lookup.find("_" + symbol + "@" + argBytes);
+                }
+                if (function.isEmpty()) {
+                    apiLog("[JNI] Failed to locate " + symbol);
+                    continue;
+                }
+
+                long offset = count++ * stride;
+                methods.set(ADDRESS, offset, arena.allocateFrom(m.getName()));
+                methods.set(ADDRESS, offset + ADDRESS.byteSize(), arena.allocateFrom(descriptor.toString()));
+                methods.set(ADDRESS, offset + 2 * ADDRESS.byteSize(), function.get());
+            }
+
+            if (nRegisterNatives(clazz, methods.address(), count) != JNI_OK) {
+                throw new IllegalStateException("Failed to register the JNI methods of " + clazz.getName());
+            }
+        }
+    }
+
+    private static char descriptor(Class<?> type) {
+        if (type == void.class) {
+            return 'V';
+        } else if (type == boolean.class) {
+            return 'Z';
+        } else if (type == byte.class) {
+            return 'B';
+        } else if (type == short.class) {
+            return 'S';
+        } else if (type == int.class) {
+            return 'I';
+        } else if (type == long.class) {
+            return 'J';
+        } else if (type == float.class) {
+            return 'F';
+        } else if (type == double.class) {
+            return 'D';
+        } else if (type == char.class) {
+            return 'C';
+        }
+        throw new IllegalArgumentException(type.getName());
+    }
+
+}
@@ -4,6 +4,7 @@
  */
 package org.lwjgl.system;
 
+import javax.annotation.*;
 import java.nio.*;
 import java.nio.charset.*;
 
@@ -37,4 +38,20 @@ final class MultiReleaseTextDecoding {
         return new String(bytes, 0, length, StandardCharsets.UTF_8);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the ASCII encoding of the specified string, if it contains ASCII characters only.
+     *
+     * <p>Returns {@code null} otherwise, without allocating. {@link String#getBytes(Charset) String.getBytes} is an array copy for compact strings (JEP 254)
+     * that contain ASCII characters only.</p>
+     */
+    @Nullable
+    static byte[] getASCII(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (0x80 <= text.charAt(i)) {
+                return null;
+            }
+        }
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
@@ -4,9 +4,11 @@
  */
 module org.lwjgl {
     requires transitive jdk.unsupported;
+    requires static java.management;
 
     exports org.lwjgl;
     exports org.lwjgl.system;
+    exports org.lwjgl.system.collections;
     exports org.lwjgl.system.dyncall;
     exports org.lwjgl.system.jni;
     exports org.lwjgl.system.libc;
@@ -0,0 +1,9 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package core.linux
+
+import org.lwjgl.generator.*
+
+val off_t = IntegerType("off_t", PrimitiveMapping.LONG)
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package core.linux.templates
+
+import org.lwjgl.generator.*
+import core.linux.*
+
+val fcntl = "FCNTL".nativeClass(Module.CORE_LINUX, nativeSubPath = "linux") {
+    nativeImport(
+        "LinuxLWJGL.h",
+        "<fcntl.h>"
+    )
+
+    documentation = "Native bindings to &lt;fcntl.h&gt;."
+
+    val AccessModes = IntConstant(
+        "The {@code flags} argument to #open() must include one of the following access modes.",
+
+        "O_RDONLY".."0",
+        "O_WRONLY".."1",
+        "O_RDWR".."2"
+    ).javaDocLinks
+
+    IntConstant(
+        "Enables the close-on-exec flag for the new file descriptor.",
+
+        "O_CLOEXEC"..0x80000
+    )
+
+    SaveErrno..int(
+        "open",
+        """
+        Opens the file specified by {@code pathname} and returns a file descriptor, a small, nonnegative integer that is used in subsequent system calls to
+        refer to the open file.
+
+        The {@code mode} argument is not exposed, so this function cannot be used to create new files.
+        """,
+
+        charUTF8.const.p("pathname", "the file to open"),
+        int("flags", "the access mode, optionally combined with #O_CLOEXEC", "$AccessModes #O_CLOEXEC", LinkMode.BITFIELD),
+
+        returnDoc = "the new file descriptor, or -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+}
\ No newline at end of file
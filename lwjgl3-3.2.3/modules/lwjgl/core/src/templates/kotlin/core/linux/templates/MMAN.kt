@@ -0,0 +1,147 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package core.linux.templates
+
+import org.lwjgl.generator.*
+import core.linux.*
+
+val mman = "MMAN".nativeClass(Module.CORE_LINUX, nativeSubPath = "linux") {
+    nativeImport(
+        "LinuxLWJGL.h",
+        "<sys/mman.h>",
+        "<sys/syscall.h>",
+        "<unistd.h>"
+    )
+
+    nativeDirective(
+        """// glibc does not provide a wrapper for mbind, it is exported by libnuma.
+static inline long mbind(void *addr, unsigned long len, int mode, const unsigned long *nodemask, unsigned long maxnode, unsigned int flags) {
+    return syscall(SYS_mbind, addr, len, mode, nodemask, maxnode, flags);
+}""")
+
+    documentation = "Native bindings to &lt;sys/mman.h&gt;."
+
+    val Protections = IntConstant(
+        "The {@code prot} argument to #mmap() is either #PROT_NONE or the bitwise OR of one or more of the following flags.",
+
+        "PROT_NONE".."0",
+        "PROT_READ"..0x1,
+        "PROT_WRITE"..0x2,
+        "PROT_EXEC"..0x4
+    ).javaDocLinks
+
+    val Flags = IntConstant(
+        "The {@code flags} argument to #mmap() must include exactly one of #MAP_SHARED or #MAP_PRIVATE, optionally combined with other flags.",
+
+        "MAP_SHARED"..0x01,
+        "MAP_PRIVATE"..0x02,
+        "MAP_ANONYMOUS"..0x20,
+        "MAP_POPULATE"..0x8000
+    ).javaDocLinks
+
+    LongConstant(
+        "The value returned by #mmap() on failure.",
+
+        "MAP_FAILED"..-1L
+    )
+
+    val Advice = IntConstant(
+        "The {@code advice} argument to #madvise().",
+
+        "MADV_NORMAL".."0",
+        "MADV_RANDOM"..1,
+        "MADV_SEQUENTIAL"..2,
+        "MADV_WILLNEED"..3,
+        "MADV_DONTNEED"..4,
+        "MADV_HUGEPAGE"..14,
+        "MADV_NOHUGEPAGE"..15,
+        "MADV_POPULATE_READ"..22,
+        "MADV_POPULATE_WRITE"..23
+    ).javaDocLinks
+
+    val MemoryPolicies = IntConstant(
+        "The {@code mode} argument to #mbind().",
+
+        "MPOL_DEFAULT".."0",
+        "MPOL_PREFERRED"..1,
+        "MPOL_BIND"..2,
+        "MPOL_INTERLEAVE"..3
+    ).javaDocLinks
+
+    val MemoryPolicyFlags = IntConstant(
+        "The {@code flags} argument to #mbind().",
+
+        "MPOL_MF_STRICT"..0x1,
+        "MPOL_MF_MOVE"..0x2
+    ).javaDocLinks
+
+    SaveErrno..opaque_p(
+        "mmap",
+        """
+        Creates a new mapping in the virtual address space of the calling process.
+
+        The contents of a file mapping are initialized using {@code length} bytes starting at offset {@code offset} in the file referred to by the file
+        descriptor {@code fd}. {@code offset} must be a multiple of the page size.
+
+        If #MAP_ANONYMOUS is specified, the mapping is not backed by any file and its contents are initialized to zero. {@code fd} should be -1 and
+        {@code offset} should be zero.
+        """,
+
+        nullable..opaque_p("addr", "the starting address hint for the new mapping, or #NULL to let the kernel choose the address"),
+        size_t("length", "the length of the mapping, must be greater than 0"),
+        int("prot", "the desired memory protection of the mapping", Protections, LinkMode.BITFIELD),
+        int("flags", "determines whether updates to the mapping are visible to other processes mapping the same region", Flags, LinkMode.BITFIELD),
+        int("fd", "the file descriptor of the file to map"),
+        off_t("offset", "the offset in the file"),
+
+        returnDoc = "a pointer to the mapped area on success, #MAP_FAILED if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..int(
+        "munmap",
+        "Deletes the mappings for the specified address range.",
+
+        opaque_p("addr", "the start of the address range, must be a multiple of the page size"),
+        size_t("length", "the length of the address range"),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..int(
+        "madvise",
+        """
+        Advises the kernel about how the specified address range is expected to be used, so that it can choose appropriate read-ahead and caching techniques.
+
+        The advice does not affect the semantics of the application (except in the case of #MADV_DONTNEED), but may influence its performance.
+        """,
+
+        opaque_p("addr", "the start of the address range, must be a multiple of the page size"),
+        size_t("length", "the length of the address range"),
+        int("advice", "the advice", Advice),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..long(
+        "mbind",
+        """
+        Sets the NUMA memory policy for the specified memory range.
+
+        The policy applies to pages that are allocated after this call. Pages that have already been allocated are not affected, unless #MPOL_MF_MOVE is
+        specified.
+
+        This function calls the {@code mbind} system call directly. It fails with {@code ENOSYS} if the kernel has been built without NUMA support.
+        """,
+
+        opaque_p("addr", "the start of the memory range, must be a multiple of the page size"),
+        unsigned_long("len", "the length of the memory range"),
+        int("mode", "the memory policy", MemoryPolicies),
+        nullable..unsigned_long.const.p("nodemask", "a bit mask of node ids, or #NULL for #MPOL_DEFAULT"),
+        unsigned_long("maxnode", "the number of bits in {@code nodemask}, plus one"),
+        unsigned_int("flags", "the policy flags", MemoryPolicyFlags, LinkMode.BITFIELD),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+}
\ No newline at end of file
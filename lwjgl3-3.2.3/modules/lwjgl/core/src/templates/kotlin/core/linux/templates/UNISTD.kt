@@ -0,0 +1,30 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package core.linux.templates
+
+import org.lwjgl.generator.*
+import core.linux.*
+
+val unistd = "UNISTD".nativeClass(Module.CORE_LINUX, nativeSubPath = "linux") {
+    nativeImport(
+        "LinuxLWJGL.h",
+        "<unistd.h>"
+    )
+
+    documentation = "Native bindings to &lt;unistd.h&gt;."
+
+    SaveErrno..int(
+        "close",
+        """
+        Closes a file descriptor, so that it no longer refers to any file and may be reused.
+
+        Mappings created with {@code mmap} are not affected, they remain valid until they are explicitly unmapped.
+        """,
+
+        int("fd", "the file descriptor to close"),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+}
\ No newline at end of file
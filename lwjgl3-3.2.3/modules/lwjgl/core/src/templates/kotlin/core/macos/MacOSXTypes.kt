@@ -34,4 +34,5 @@ val CFOptionFlags = IntegerType("CFOptionFlags", PrimitiveMapping.LONG, unsigned
 val CFHashCode = IntegerType("CFHashCode", PrimitiveMapping.LONG, unsigned = true)
 val CFIndex = IntegerType("CFIndex", PrimitiveMapping.LONG)
 
-val pid_t = "pid_t".handle
\ No newline at end of file
+val pid_t = "pid_t".handle
+val off_t = IntegerType("off_t", PrimitiveMapping.LONG)
\ No newline at end of file
@@ -7,12 +7,137 @@ package core.macos.templates
 import org.lwjgl.generator.*
 import core.macos.*
 
-val libc = "LibC".nativeClass(Module.CORE_MACOS, nativeSubPath = "macos", binding = libSystem.binding!!.delegate("LibSystem.getLibrary()")) {
+val libc = "LibC".nativeClass(Module.CORE_MACOS, nativeSubPath = "macos") {
+    nativeImport(
+        "macOSLWJGL.h",
+        "<fcntl.h>",
+        "<sys/mman.h>",
+        "<unistd.h>"
+    )
+
     documentation = "Native bindings to libc, the Standard C Library."
 
+    val AccessModes = IntConstant(
+        "The {@code flags} argument to #open() must include one of the following access modes.",
+
+        "O_RDONLY".."0",
+        "O_WRONLY"..0x0001,
+        "O_RDWR"..0x0002
+    ).javaDocLinks
+
+    IntConstant(
+        "Enables the close-on-exec flag for the new file descriptor.",
+
+        "O_CLOEXEC"..0x1000000
+    )
+
+    val Protections = IntConstant(
+        "The {@code prot} argument to #mmap() is either #PROT_NONE or the bitwise OR of one or more of the following flags.",
+
+        "PROT_NONE".."0",
+        "PROT_READ"..0x1,
+        "PROT_WRITE"..0x2,
+        "PROT_EXEC"..0x4
+    ).javaDocLinks
+
+    val Flags = IntConstant(
+        "The {@code flags} argument to #mmap() must include exactly one of #MAP_SHARED or #MAP_PRIVATE.",
+
+        "MAP_SHARED"..0x0001,
+        "MAP_PRIVATE"..0x0002
+    ).javaDocLinks
+
+    LongConstant(
+        "The value returned by #mmap() on failure.",
+
+        "MAP_FAILED"..-1L
+    )
+
+    val Advice = IntConstant(
+        "The {@code advice} argument to #madvise().",
+
+        "MADV_NORMAL".."0",
+        "MADV_RANDOM"..1,
+        "MADV_SEQUENTIAL"..2,
+        "MADV_WILLNEED"..3,
+        "MADV_DONTNEED"..4
+    ).javaDocLinks
+
     pid_t(
         "getpid",
         "Returns the process ID of the calling process.",
         void()
     )
+
+    SaveErrno..int(
+        "open",
+        """
+        Opens the file specified by {@code pathname} and returns a file descriptor, a small, nonnegative integer that is used in subsequent system calls to
+        refer to the open file.
+
+        The {@code mode} argument is not exposed, so this function cannot be used to create new files.
+        """,
+
+        charUTF8.const.p("pathname", "the file to open"),
+        int("flags", "the access mode, optionally combined with #O_CLOEXEC", "$AccessModes #O_CLOEXEC", LinkMode.BITFIELD),
+
+        returnDoc = "the new file descriptor, or -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..int(
+        "close",
+        """
+        Closes a file descriptor, so that it no longer refers to any file and may be reused.
+
+        Mappings created with #mmap() are not affected, they remain valid until they are explicitly unmapped.
+        """,
+
+        int("fd", "the file descriptor to close"),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..opaque_p(
+        "mmap",
+        """
+        Creates a new mapping in the virtual address space of the calling process.
+
+        The contents of a file mapping are initialized using {@code length} bytes starting at offset {@code offset} in the file referred to by the file
+        descriptor {@code fd}. {@code offset} must be a multiple of the page size.
+        """,
+
+        nullable..opaque_p("addr", "the starting address hint for the new mapping, or #NULL to let the kernel choose the address"),
+        size_t("length", "the length of the mapping, must be greater than 0"),
+        int("prot", "the desired memory protection of the mapping", Protections, LinkMode.BITFIELD),
+        int("flags", "determines whether updates to the mapping are visible to other processes mapping the same region", Flags),
+        int("fd", "the file descriptor of the file to map"),
+        off_t("offset", "the offset in the file"),
+
+        returnDoc = "a pointer to the mapped area on success, #MAP_FAILED if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..int(
+        "munmap",
+        "Deletes the mappings for the specified address range.",
+
+        opaque_p("addr", "the start of the address range, must be a multiple of the page size"),
+        size_t("length", "the length of the address range"),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
+
+    SaveErrno..int(
+        "madvise",
+        """
+        Advises the kernel about how the specified address range is expected to be used, so that it can choose appropriate read-ahead and caching techniques.
+
+        The advice does not affect the semantics of the application (except in the case of #MADV_DONTNEED), but may influence its performance.
+        """,
+
+        opaque_p("addr", "the start of the address range, must be a multiple of the page size"),
+        size_t("length", "the length of the address range"),
+        int("advice", "the advice", Advice),
+
+        returnDoc = "zero on success, -1 if an error occurred (in which case, {@code errno} is set appropriately)"
+    )
 }
\ No newline at end of file
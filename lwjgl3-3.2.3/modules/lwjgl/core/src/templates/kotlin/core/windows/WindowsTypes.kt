@@ -33,6 +33,7 @@ val PULONG = typedef(ULONG.p, "PULONG")
 val UINT_PTR = IntegerType("UINT_PTR", PrimitiveMapping.POINTER, unsigned = true)
 val LONG_PTR = IntegerType("LONG_PTR", PrimitiveMapping.POINTER)
 val ULONG_PTR = IntegerType("ULONG_PTR", PrimitiveMapping.POINTER, unsigned = true)
+val SIZE_T = IntegerType("SIZE_T", PrimitiveMapping.POINTER, unsigned = true)
 
 val LRESULT = typedef(LONG_PTR, "LRESULT")
 val WPARAM = typedef(UINT_PTR, "WPARAM")
@@ -49,6 +50,7 @@ val LPCTSTR = typedef(TCHAR.const.p, "LPCTSTR")
 val FARPROC = "FARPROC".handle
 val PROC = "PROC".handle
 val LPVOID = "LPVOID".handle
+val LPCVOID = "LPCVOID".handle
 
 val HINSTANCE = typedef(HANDLE, "HINSTANCE")
 val HMODULE = typedef(HANDLE, "HMODULE")
@@ -108,4 +108,137 @@ val WinBase = "WinBase".nativeClass(Module.CORE_WINDOWS, nativeSubPath = "window
 
         HMODULE("handle", "a handle to the loaded library module")
     )
+    LongConstant(
+        "The handle value returned by #CreateFile() on failure.",
+
+        "INVALID_HANDLE_VALUE"..-1L
+    )
+
+    val DesiredAccess = IntConstant(
+        "Generic access rights, used by the {@code desiredAccess} argument to #CreateFile().",
+
+        "GENERIC_READ"..0x80000000.i,
+        "GENERIC_WRITE"..0x40000000
+    ).javaDocLinks
+
+    val ShareModes = IntConstant(
+        "The {@code shareMode} argument to #CreateFile().",
+
+        "FILE_SHARE_READ"..0x00000001,
+        "FILE_SHARE_WRITE"..0x00000002,
+        "FILE_SHARE_DELETE"..0x00000004
+    ).javaDocLinks
+
+    val CreationDispositions = IntConstant(
+        "The {@code creationDisposition} argument to #CreateFile().",
+
+        "CREATE_NEW".."1",
+        "CREATE_ALWAYS".."2",
+        "OPEN_EXISTING".."3",
+        "OPEN_ALWAYS".."4",
+        "TRUNCATE_EXISTING".."5"
+    ).javaDocLinks
+
+    val FlagsAndAttributes = IntConstant(
+        "The {@code flagsAndAttributes} argument to #CreateFile().",
+
+        "FILE_ATTRIBUTE_NORMAL"..0x00000080,
+        "FILE_FLAG_RANDOM_ACCESS"..0x10000000,
+        "FILE_FLAG_SEQUENTIAL_SCAN"..0x08000000
+    ).javaDocLinks
+
+    val PageProtections = IntConstant(
+        "The {@code protect} argument to #CreateFileMapping().",
+
+        "PAGE_READONLY"..0x02,
+        "PAGE_READWRITE"..0x04,
+        "PAGE_WRITECOPY"..0x08
+    ).javaDocLinks
+
+    val FileMapAccess = IntConstant(
+        "The {@code desiredAccess} argument to #MapViewOfFile().",
+
+        "FILE_MAP_COPY"..0x0001,
+        "FILE_MAP_WRITE"..0x0002,
+        "FILE_MAP_READ"..0x0004
+    ).javaDocLinks
+
+    SaveLastError..HANDLE(
+        "CreateFile",
+        "Opens a file or I/O device.",
+
+        LPCTSTR("fileName", "the name of the file or device to be opened"),
+        DWORD("desiredAccess", "the requested access to the file or device", DesiredAccess, LinkMode.BITFIELD),
+        DWORD("shareMode", "the requested sharing mode of the file or device", ShareModes, LinkMode.BITFIELD),
+        nullable..SECURITY_ATTRIBUTES.p(
+            "securityAttributes",
+            "a pointer to a ##SECURITY_ATTRIBUTES structure that determines whether the returned handle can be inherited by child processes, or #NULL"
+        ),
+        DWORD("creationDisposition", "an action to take on a file or device that exists or does not exist", CreationDispositions),
+        DWORD("flagsAndAttributes", "the file or device attributes and flags", FlagsAndAttributes, LinkMode.BITFIELD),
+        nullable..HANDLE("templateFile", "a valid handle to a template file with the {@code GENERIC_READ} access right, or #NULL"),
+
+        returnDoc = "an open handle to the specified file, or #INVALID_HANDLE_VALUE if the function fails"
+    )
+
+    SaveLastError..HANDLE(
+        "CreateFileMapping",
+        "Creates or opens a named or unnamed file mapping object for a specified file.",
+
+        HANDLE("file", "a handle to the file from which to create a file mapping object"),
+        nullable..SECURITY_ATTRIBUTES.p(
+            "fileMappingAttributes",
+            "a pointer to a ##SECURITY_ATTRIBUTES structure that determines whether the returned handle can be inherited by child processes, or #NULL"
+        ),
+        DWORD("protect", "the page protection of the file mapping object", PageProtections),
+        DWORD("maximumSizeHigh", "the high-order {@code DWORD} of the maximum size of the file mapping object"),
+        DWORD(
+            "maximumSizeLow",
+            """
+            the low-order {@code DWORD} of the maximum size of the file mapping object. If this parameter and {@code maximumSizeHigh} are 0 (zero), the
+            maximum size of the file mapping object is equal to the current size of the file.
+            """
+        ),
+        nullable..LPCTSTR("name", "the name of the file mapping object, or #NULL to create an unnamed object"),
+
+        returnDoc = "a handle to the newly created file mapping object, or #NULL if the function fails"
+    )
+
+    SaveLastError..LPVOID(
+        "MapViewOfFile",
+        "Maps a view of a file mapping into the address space of a calling process.",
+
+        HANDLE("fileMappingObject", "a handle to a file mapping object"),
+        DWORD("desiredAccess", "the type of access to a file mapping object, which determines the page protection of the pages", FileMapAccess, LinkMode.BITFIELD),
+        DWORD("fileOffsetHigh", "a high-order {@code DWORD} of the file offset where the view begins"),
+        DWORD(
+            "fileOffsetLow",
+            """
+            a low-order {@code DWORD} of the file offset where the view is to begin. The combination of the high and low offsets must specify an offset within
+            the file mapping. They must also match the memory allocation granularity of the system.
+            """
+        ),
+        SIZE_T("numberOfBytesToMap", "the number of bytes of a file mapping to map to the view, or 0 to map the entire file mapping"),
+
+        returnDoc = "the starting address of the mapped view, or #NULL if the function fails"
+    )
+
+    SaveLastError..BOOL(
+        "UnmapViewOfFile",
+        "Unmaps a mapped view of a file from the calling process's address space.",
+
+        LPCVOID("baseAddress", "a pointer to the base address of the mapped view of a file that is to be unmapped")
+    )
+
+    SaveLastError..BOOL(
+        "CloseHandle",
+        """
+        Closes an open object handle.
+
+        Mapped views of a file mapping object maintain internal references to the object, and a file mapping object does not close until all references to it
+        are released. Closing the file and file mapping handles does not unmap views created with #MapViewOfFile().
+        """,
+
+        HANDLE("object", "a valid handle to an open object")
+    )
 }
\ No newline at end of file
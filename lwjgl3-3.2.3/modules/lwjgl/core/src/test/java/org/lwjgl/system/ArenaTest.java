@@ -0,0 +1,108 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class ArenaTest {
+
+    public void testResetReusesBlocks() {
+        try (MemoryArena arena = MemoryArena.create(256)) {
+            assertEquals(arena.getCapacity(), 0L);
+
+            long first = arena.nmalloc(8, 64);
+            for (int i = 0; i < 16; i++) {
+                arena.nmalloc(8, 64);
+            }
+            long capacity = arena.getCapacity();
+            assertTrue(256L < capacity);
+
+            arena.reset();
+            assertEquals(arena.nmalloc(8, 64), first);
+            for (int i = 0; i < 16; i++) {
+                arena.nmalloc(8, 64);
+            }
+            assertEquals(arena.getCapacity(), capacity);
+        }
+    }
+
+    public void testCheckpoints() {
+        try (MemoryArena arena = MemoryArena.create(128)) {
+            arena.nmalloc(100);
+
+            long outer   = arena.checkpoint();
+            long address = arena.nmalloc(16, 64);
+
+            long inner = arena.checkpoint();
+            arena.nmalloc(1000);
+            arena.rewind(inner);
+
+            assertEquals(arena.checkpoint(), inner);
+
+            arena.rewind(outer);
+            assertEquals(arena.nmalloc(16, 64), address);
+
+            expectThrows(IllegalArgumentException.class, () -> arena.rewind(arena.checkpoint() + 1));
+        }
+    }
+
+    public void testAlignment() {
+        try (MemoryArena arena = MemoryArena.create(1024)) {
+            for (int i = 0; i < 12; i++) {
+                int pot = 1 << i;
+                arena.nmalloc(1);
+                assertEquals(arena.nmalloc(pot, pot) & (pot - 1), 0);
+            }
+        }
+    }
+
+    public void testLargeAllocation() {
+        try (MemoryArena arena = MemoryArena.create(64)) {
+            IntBuffer ints = arena.callocInt(1024);
+            assertEquals(ints.capacity(), 1024);
+            for (int i = 0; i < ints.capacity(); i++) {
+                assertEquals(ints.get(i), 0);
+            }
+            assertTrue(4096L <= arena.getCapacity());
+        }
+    }
+
+    public void testCallocOverflow() {
+        if (!Checks.CHECKS) {
+            throw new SkipException("This test may not run with checks disabled.");
+        }
+        try (MemoryArena arena = MemoryArena.create(64)) {
+            expectThrows(IllegalArgumentException.class, () -> arena.ncalloc(8, 1L << 32, 1L << 32));
+            expectThrows(IllegalArgumentException.class, () -> arena.ncalloc(8, Long.MAX_VALUE, 2L));
+            expectThrows(IllegalArgumentException.class, () -> arena.ncalloc(8, -1L, -8L));
+            expectThrows(IllegalArgumentException.class, () -> arena.callocInt(-1));
+
+            assertEquals(arena.checkpoint(), 0L);
+            assertNotEquals(arena.ncalloc(8, 0L, Long.MAX_VALUE), NULL);
+        }
+    }
+
+    public void testHandOff() throws InterruptedException {
+        MemoryArena arena = MemoryArena.create();
+
+        Thread thread = new Thread(() -> arena.UTF8("hello"));
+        thread.start();
+        thread.join();
+
+        ByteBuffer text = arena.UTF8("world", false);
+        assertEquals(MemoryUtil.memUTF8(text), "world");
+
+        arena.free();
+        assertEquals(arena.getCapacity(), 0L);
+    }
+
+}
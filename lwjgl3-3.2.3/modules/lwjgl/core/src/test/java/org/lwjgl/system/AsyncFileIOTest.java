@@ -0,0 +1,166 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.AsyncFileIO.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class AsyncFileIOTest {
+
+    private static ByteBuffer createData(int size, int seed) {
+        ByteBuffer data = memAlloc(size);
+        for (int i = 0; i < size; i++) {
+            data.put(i, (byte)(i * 31 + seed));
+        }
+        return data;
+    }
+
+    public void testBatch() throws Exception {
+        Path path = Files.createTempFile("lwjgl", ".bin");
+
+        ByteBuffer data = createData(4096, 0);
+        ByteBuffer copy = memCalloc(4096);
+        try (AsyncFileIO io = new AsyncFileIO(4)) {
+            // Write the file in 16 chunks, in the same batch
+            List<Request> writes = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                writes.add(Request.write(path, i * 256, memAddress(data) + i * 256, 256));
+            }
+            for (CompletableFuture<Long> future : io.submit(writes)) {
+                assertEquals(future.get().longValue(), 256L);
+            }
+            assertEquals(Files.size(path), 4096L);
+
+            // Read it back in 4 chunks
+            List<Request> reads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                reads.add(Request.read(path, i * 1024, memAddress(copy) + i * 1024, 1024));
+            }
+            for (CompletableFuture<Long> future : io.submit(reads)) {
+                assertEquals(future.get().longValue(), 1024L);
+            }
+            assertEquals(copy, data);
+
+            // Short read at the end of the file
+            assertEquals(io.submit(Request.read(path, 4000, memAddress(copy), 1000)).get().longValue(), 96L);
+        } finally {
+            memFree(copy);
+            memFree(data);
+            Files.delete(path);
+        }
+    }
+
+    public void testReadFiles() throws Exception {
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            Path path = Files.createTempFile("lwjgl", ".bin");
+
+            byte[] bytes = new byte[i * 100];
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte)(j * 31 + i);
+            }
+            Files.write(path, bytes);
+
+            paths.add(path);
+        }
+
+        try (AsyncFileIO io = new AsyncFileIO(4)) {
+            List<CompletableFuture<ByteBuffer>> futures = io.read(paths);
+            for (int i = 0; i < futures.size(); i++) {
+                ByteBuffer buffer = futures.get(i).get();
+                try {
+                    ByteBuffer expected = createData(i * 100, i);
+                    assertEquals(buffer, expected);
+                    memFree(expected);
+                } finally {
+                    memFree(buffer);
+                }
+            }
+        } finally {
+            for (Path path : paths) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    public void testBoundedQueue() throws Exception {
+        expectThrows(IllegalArgumentException.class, () -> new AsyncFileIO(1, 0));
+
+        Path path = Files.createTempFile("lwjgl", ".bin");
+
+        ByteBuffer data = createData(4096, 0);
+        ByteBuffer copy = memCalloc(4096);
+        try (AsyncFileIO io = new AsyncFileIO(1, 1)) {
+            assertEquals(io.getQueueCapacity(), 1);
+
+            // The batch is much larger than the queue, submitting must block until space becomes available
+            List<Request> writes = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                writes.add(Request.write(path, i * 64, memAddress(data) + i * 64, 64));
+            }
+            for (CompletableFuture<Long> future : io.submit(writes)) {
+                assertEquals(future.get().longValue(), 64L);
+            }
+            assertTrue(io.getPendingCount() <= 1);
+
+            // Submitting from the I/O thread must not deadlock on the full queue
+            List<Request> reads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                reads.add(Request.read(path, i * 64, memAddress(copy) + i * 64, 64));
+            }
+            CompletableFuture<Long> total = io.submit(Request.read(path, 0, memAddress(copy), 64)).thenCompose(bytes -> {
+                CompletableFuture<Long> sum = CompletableFuture.completedFuture(bytes);
+                for (CompletableFuture<Long> future : io.submit(reads)) {
+                    sum = sum.thenCombine(future, Long::sum);
+                }
+                return sum;
+            });
+            assertEquals(total.get(10, TimeUnit.SECONDS).longValue(), 64L + 4096L);
+            assertEquals(copy, data);
+        } finally {
+            memFree(copy);
+            memFree(data);
+            Files.delete(path);
+        }
+    }
+
+    public void testErrors() throws Exception {
+        Path path = Paths.get("lwjgl_missing_file.bin");
+
+        AsyncFileIO io = new AsyncFileIO(1);
+
+        ExecutionException e = expectThrows(ExecutionException.class, () -> io.read(path).get());
+        assertTrue(e.getCause() instanceof IOException);
+
+        ByteBuffer buffer = memAlloc(16);
+        try {
+            for (CompletableFuture<Long> future : io.submit(Arrays.asList(
+                Request.read(path, 0, memAddress(buffer), 8),
+                Request.read(path, 8, memAddress(buffer) + 8, 8)
+            ))) {
+                e = expectThrows(ExecutionException.class, future::get);
+                assertTrue(e.getCause() instanceof IOException);
+            }
+
+            io.close();
+
+            e = expectThrows(ExecutionException.class, () -> io.submit(Request.read(path, 0, memAddress(buffer), 16)).get());
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        } finally {
+            memFree(buffer);
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.JNI.*;
+import static org.testng.Assert.*;
+
+@Test
+public class CallbackTest {
+
+    private static CallbackI.P_PP createP_PP(long value) {
+        return new CallbackI.P_PP() {
+            @Override
+            public String getSignature() {
+                return "(pp)p";
+            }
+
+            @Override
+            public long callback(long a, long b) {
+                return a * 31L + b + value;
+            }
+        };
+    }
+
+    private static CallbackI.I_PP createI_PP(int value) {
+        return new CallbackI.I_PP() {
+            @Override
+            public String getSignature() {
+                return "(pp)i";
+            }
+
+            @Override
+            public int callback(long a, long b) {
+                return Long.compare(a, b) + value;
+            }
+        };
+    }
+
+    private static CallbackI.V_PI createV_PI(long[] target) {
+        return new CallbackI.V_PI() {
+            @Override
+            public String getSignature() {
+                return "(pi)v";
+            }
+
+            @Override
+            public void callback(long a, int b) {
+                target[0] = a;
+                target[1] = b;
+            }
+        };
+    }
+
+    public void testSpecializedCallbacks() {
+        long p_pp = createP_PP(7L).address();
+        long i_pp = createI_PP(100).address();
+
+        long[] target = new long[2];
+        long   v_pi   = createV_PI(target).address();
+        try {
+            assertEquals(invokePPP(0x1234_5678_9ABCL, -3L, p_pp), 0x1234_5678_9ABCL * 31L - 3L + 7L);
+            assertEquals(invokePPP(-1L, 1L, p_pp), -31L + 1L + 7L);
+
+            assertEquals(invokePPI(1L, 2L, i_pp), 99);
+            assertEquals(invokePPI(Long.MIN_VALUE, Long.MIN_VALUE, i_pp), 100);
+            assertEquals(invokePPI(-1L, 0L, i_pp), 99);
+
+            invokePV(0xCAFE_BABE_0000L, -42, v_pi);
+            assertEquals(target[0], 0xCAFE_BABE_0000L);
+            assertEquals(target[1], -42L);
+
+            invokePV(-1L, Integer.MAX_VALUE, v_pi);
+            assertEquals(target[0], -1L);
+            assertEquals(target[1], Integer.MAX_VALUE);
+        } finally {
+            Callback.free(v_pi);
+            Callback.free(i_pp);
+            Callback.free(p_pp);
+        }
+    }
+
+    public void testPoolReuse() {
+        int count = Callback.POOL_CAPACITY + 8;
+
+        // Drain the pool, so that it only contains handles freed by this test
+        long[] drain = new long[Callback.POOL_CAPACITY];
+        for (int i = 0; i < drain.length; i++) {
+            drain[i] = createP_PP(0L).address();
+        }
+
+        try {
+            Set<Long> freed = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                long handle = createP_PP(i).address();
+                assertEquals(invokePPP(0L, 0L, handle), i);
+                freed.add(handle);
+            }
+            for (long handle : freed) {
+                Callback.free(handle);
+            }
+
+            // Recreate with different targets and signatures, reused handles must dispatch to the new target
+            long[] handles = new long[count];
+            long[] target  = new long[2];
+            int    reused  = 0;
+            for (int i = 0; i < count; i++) {
+                switch (i % 3) {
+                    case 0:
+                        handles[i] = createP_PP(1000L + i).address();
+                        break;
+                    case 1:
+                        handles[i] = createI_PP(1000 + i).address();
+                        break;
+                    default:
+                        handles[i] = createV_PI(target).address();
+                }
+                if (freed.contains(handles[i])) {
+                    reused++;
+                }
+            }
+            // the handles freed beyond the pool capacity may also be reallocated by dyncall
+            assertTrue(Callback.POOL_CAPACITY <= reused);
+
+            try {
+                for (int i = 0; i < count; i++) {
+                    switch (i % 3) {
+                        case 0:
+                            assertEquals(invokePPP(0L, 0L, handles[i]), 1000L + i);
+                            break;
+                        case 1:
+                            assertEquals(invokePPI(0L, 0L, handles[i]), 1000 + i);
+                            break;
+                        default:
+                            invokePV((long)i, -i, handles[i]);
+                            assertEquals(target[0], i);
+                            assertEquals(target[1], -i);
+                    }
+                }
+            } finally {
+                for (long handle : handles) {
+                    Callback.free(handle);
+                }
+            }
+        } finally {
+            for (long handle : drain) {
+                Callback.free(handle);
+            }
+        }
+    }
+
+    public void testConcurrentPool() throws Exception {
+        int threads    = 8;
+        int iterations = 10_000;
+
+        // A handle must never be handed out to more than one live callback
+        Set<Long> live = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long id = t;
+                futures.add(executor.submit(() -> {
+                    long[] handles = new long[4];
+                    for (int i = 0; i < iterations; i++) {
+                        for (int j = 0; j < handles.length; j++) {
+                            handles[j] = createP_PP(id << 32 | j).address();
+                            assertTrue(live.add(handles[j]));
+                        }
+                        for (int j = 0; j < handles.length; j++) {
+                            assertEquals(invokePPP(0L, i, handles[j]), i + (id << 32 | j));
+                            assertTrue(live.remove(handles[j]));
+                            Callback.free(handles[j]);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(live.isEmpty());
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.CodecCalibrator.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class CodecCalibratorTest {
+
+    /** Stores the data uncompressed. The level is the number of bytes to corrupt. */
+    private static final class StoreCodec implements Codec {
+
+        @Override public String getName() { return "store"; }
+        @Override public int getDefaultLevel() { return 0; }
+        @Override public int mapLevel(int level) { return 0; }
+        @Override public long compressBound(long size) { return size; }
+
+        @Override
+        public long compress(ByteBuffer src, ByteBuffer dst, int level) {
+            memCopy(memAddress(src), memAddress(dst), src.remaining());
+            for (int i = 0; i < level; i++) {
+                dst.put(dst.position() + i, (byte)~dst.get(dst.position() + i));
+            }
+            return src.remaining();
+        }
+
+        @Override
+        public long decompress(ByteBuffer src, ByteBuffer dst) {
+            memCopy(memAddress(src), memAddress(dst), src.remaining());
+            return src.remaining();
+        }
+
+        @Override public WritableByteChannel newCompressingChannel(WritableByteChannel target, int level) { return target; }
+        @Override public ReadableByteChannel newDecompressingChannel(ReadableByteChannel source) { return source; }
+
+        @Override public void free() {}
+
+    }
+
+    private static ByteBuffer createSample(int size) {
+        ByteBuffer sample = ByteBuffer.allocateDirect(size);
+        for (int i = 0; i < size; i++) {
+            sample.put(i, (byte)i);
+        }
+        return sample;
+    }
+
+    public void testMeasure() {
+        Codec codec = new StoreCodec();
+        try (CodecCalibrator calibrator = new CodecCalibrator(10L, TimeUnit.MILLISECONDS)) {
+            calibrator
+                .addCodec(codec)
+                .addSample("small", createSample(100))
+                .addSample("small", createSample(200))
+                .addSample("large", createSample(100_000))
+                .addSample("empty", createSample(0));
+
+            assertEquals(calibrator.getDataClasses(), new LinkedHashSet<>(Arrays.asList("small", "large")));
+
+            List<Result> results = calibrator.measure("small");
+            assertEquals(results.size(), 1);
+
+            Result result = results.get(0);
+            assertSame(result.getCodec(), codec);
+            assertEquals(result.getSize(), 300L);
+            assertEquals(result.getCompressedSize(), 300L);
+            assertEquals(result.getRatio(), 1.0, 0.0);
+            assertTrue(0.0 < result.getCompressionSpeed());
+            assertTrue(0.0 < result.getDecompressionSpeed());
+
+            Map<String, Result> recommendations = calibrator.calibrate(0.0, 0.0);
+            assertEquals(recommendations.keySet(), calibrator.getDataClasses());
+
+            expectThrows(IllegalArgumentException.class, () -> calibrator.measure("empty"));
+        }
+    }
+
+    public void testRoundTripFailure() {
+        try (CodecCalibrator calibrator = new CodecCalibrator(10L, TimeUnit.MILLISECONDS)) {
+            calibrator
+                .addCodec(new StoreCodec(), 1)
+                .addSample("data", createSample(100));
+
+            expectThrows(IllegalStateException.class, () -> calibrator.measure("data"));
+        }
+    }
+
+    public void testRecommend() {
+        Codec codec = new StoreCodec();
+
+        Result fast     = new Result("data", codec, 1, 1000L, 500L, 800.0, 3000.0);
+        Result balanced = new Result("data", codec, 2, 1000L, 350L, 200.0, 2000.0);
+        Result best     = new Result("data", codec, 3, 1000L, 300L, 10.0, 1000.0);
+
+        List<Result> results = Arrays.asList(fast, balanced, best);
+
+        assertSame(CodecCalibrator.recommend(results, 0.0, 0.0), best);
+        assertSame(CodecCalibrator.recommend(results, 100.0, 0.0), balanced);
+        assertSame(CodecCalibrator.recommend(results, 100.0, 2500.0), fast);
+        // nothing is fast enough, the fastest is recommended
+        assertSame(CodecCalibrator.recommend(results, 1000.0, 0.0), fast);
+
+        assertNull(CodecCalibrator.recommend(Collections.emptyList(), 0.0, 0.0));
+    }
+
+}
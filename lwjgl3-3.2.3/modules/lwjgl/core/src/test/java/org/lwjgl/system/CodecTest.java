@@ -0,0 +1,159 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.CodecCalibrator.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+/**
+ * The contract of {@link Codec} implementations. Subclasses provide the codec under test and may add codec-specific checks.
+ *
+ * <p>The one-shot and streaming paths must produce output that the other path can decompress, and every portable level must compress text.</p>
+ */
+@Test
+public abstract class CodecTest {
+
+    private static final String[] WORDS = {"lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do", "eiusmod", "tempor"};
+
+    protected static ByteBuffer createData(int size) {
+        Random random = new Random(1234L);
+
+        StringBuilder sb = new StringBuilder(size + 16);
+        while (sb.length() < size) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        sb.setLength(size);
+        return memASCII(sb, false);
+    }
+
+    /** Returns a new instance of the codec under test. */
+    protected abstract Codec createCodec();
+
+    /**
+     * Checks the result recommended for text data, when there are no speed requirements.
+     *
+     * @param best the recommended result
+     */
+    protected void checkRecommendation(Result best) {
+    }
+
+    public void testOneShot() {
+        ByteBuffer data = createData(300 * 1024 + 17);
+        try (Codec codec = createCodec()) {
+            ByteBuffer compressed   = memAlloc((int)codec.compressBound(data.remaining()));
+            ByteBuffer decompressed = memAlloc(data.remaining());
+            try {
+                for (int level = Codec.LEVEL_FASTEST; level <= Codec.LEVEL_BEST; level++) {
+                    compressed.clear();
+                    compressed.limit((int)codec.compress(data, compressed, codec.mapLevel(level)));
+                    assertTrue(compressed.remaining() < data.remaining());
+
+                    decompressed.clear();
+                    assertEquals(codec.decompress(compressed, decompressed), data.remaining());
+                    assertEquals(decompressed, data);
+                }
+
+                // the destination is too small
+                decompressed.clear();
+                decompressed.limit(data.remaining() - 1);
+                expectThrows(IllegalStateException.class, () -> codec.decompress(compressed, decompressed));
+
+                compressed.clear();
+                compressed.limit((int)codec.compressBound(data.remaining()) - 1);
+                expectThrows(BufferOverflowException.class, () -> codec.compress(data, compressed, codec.getDefaultLevel()));
+            } finally {
+                memFree(decompressed);
+                memFree(compressed);
+            }
+        } finally {
+            memFree(data);
+        }
+    }
+
+    public void testStreaming() throws IOException {
+        ByteBuffer data = createData(300 * 1024 + 17);
+        try (Codec codec = createCodec()) {
+            // streaming compression, one-shot decompression
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (WritableByteChannel channel = codec.newCompressingChannel(Channels.newChannel(bytes), codec.mapLevel(5))) {
+                ByteBuffer chunk = data.duplicate();
+                while (chunk.hasRemaining()) {
+                    ByteBuffer slice = chunk.slice();
+                    slice.limit(Math.min(slice.remaining(), 10_000));
+                    chunk.position(chunk.position() + channel.write(slice));
+                }
+            }
+
+            ByteBuffer compressed   = memAlloc(bytes.size());
+            ByteBuffer decompressed = memAlloc(data.remaining());
+            try {
+                compressed.put(bytes.toByteArray()).flip();
+                assertEquals(codec.decompress(compressed, decompressed), data.remaining());
+                assertEquals(decompressed, data);
+
+                // one-shot compression, streaming decompression
+                ByteBuffer frame = memAlloc((int)codec.compressBound(data.remaining()));
+                try {
+                    frame.limit((int)codec.compress(data, frame, codec.getDefaultLevel()));
+
+                    byte[] array = new byte[frame.remaining()];
+                    frame.get(array);
+
+                    decompressed.clear();
+                    try (ReadableByteChannel channel = codec.newDecompressingChannel(Channels.newChannel(new ByteArrayInputStream(array)))) {
+                        while (decompressed.hasRemaining()) {
+                            assertNotEquals(channel.read(decompressed), -1);
+                        }
+                        assertEquals(channel.read(ByteBuffer.allocate(1)), -1);
+                    }
+                    decompressed.flip();
+                    assertEquals(decompressed, data);
+                } finally {
+                    memFree(frame);
+                }
+            } finally {
+                memFree(decompressed);
+                memFree(compressed);
+            }
+        } finally {
+            memFree(data);
+        }
+    }
+
+    public void testCalibration() {
+        ByteBuffer data = createData(64 * 1024);
+        try (
+            Codec codec = createCodec();
+            CodecCalibrator calibrator = new CodecCalibrator(10L, TimeUnit.MILLISECONDS)
+        ) {
+            calibrator
+                .addCodec(codec)
+                .addSample("text", data);
+
+            List<Result> results = calibrator.measure("text");
+            assertEquals(results.size(), Codec.LEVEL_BEST - Codec.LEVEL_FASTEST + 1);
+            for (Result result : results) {
+                assertSame(result.getCodec(), codec);
+                assertTrue(1.0 < result.getRatio(), result.toString());
+            }
+
+            Result best = CodecCalibrator.recommend(results, 0.0, 0.0);
+            assertNotNull(best);
+            checkRecommendation(best);
+        } finally {
+            memFree(data);
+        }
+    }
+
+}
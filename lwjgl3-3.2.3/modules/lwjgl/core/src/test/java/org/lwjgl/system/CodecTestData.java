@@ -0,0 +1,38 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import java.util.*;
+
+/** Deterministic test data shared by the tests of the compression bindings. */
+public final class CodecTestData {
+
+    private static final String[] NAMES  = {"alice", "bob", "carol", "dave", "eve", "mallory"};
+    private static final String[] EVENTS = {"login", "logout", "purchase", "refund", "view"};
+
+    private CodecTestData() {
+    }
+
+    /** Returns {@code size} bytes of text that is compressible, but not trivially: random letters from an 8-letter alphabet. */
+    public static byte[] createData(int size) {
+        Random random = new Random(1234L);
+
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte)('a' + random.nextInt(8));
+        }
+        return data;
+    }
+
+    /** Returns a small JSON object that describes a random event. Such messages share most of their structure, which makes them good dictionary samples. */
+    public static String createEvent(Random random) {
+        return String.format(
+            "{\"user\":\"%s\",\"event\":\"%s\",\"timestamp\":%d,\"session\":\"%08x\",\"amount\":%d.%02d,\"tags\":[\"web\",\"eu-west\"]}",
+            NAMES[random.nextInt(NAMES.length)], EVENTS[random.nextInt(EVENTS.length)], 1600000000L + random.nextInt(1000000),
+            random.nextInt(), random.nextInt(1000), random.nextInt(100)
+        );
+    }
+
+}
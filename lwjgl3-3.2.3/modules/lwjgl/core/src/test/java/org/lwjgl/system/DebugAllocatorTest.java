@@ -0,0 +1,157 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.MemoryManage.DebugAllocator.*;
+import org.lwjgl.system.MemoryUtil.MemoryAllocationReport.*;
+import org.testng.annotations.*;
+
+import java.util.*;
+
+import static org.lwjgl.system.MemoryManage.DebugAllocator.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class DebugAllocatorTest {
+
+    private static Map<Long, Long> contents(AddressTable table) {
+        Map<Long, Long> contents = new HashMap<>();
+        table.forEach((address, size) -> assertNull(contents.put(address, size)));
+        return contents;
+    }
+
+    public void testAddressTable() {
+        AddressTable    table    = new AddressTable();
+        Map<Long, Long> expected = new HashMap<>();
+
+        Random random = new Random(42L);
+        for (int i = 0; i < 100_000; i++) {
+            // aligned addresses in a small range, to exercise collisions, updates and removals in every stripe
+            long address = (1L + random.nextInt(4096)) << 4;
+            if (random.nextBoolean()) {
+                long size = random.nextInt(1000);
+                assertEquals(table.put(address, size), expected.put(address, size) != null);
+            } else {
+                Long size = expected.remove(address);
+                assertEquals(table.remove(address), size == null ? -1L : (long)size);
+            }
+        }
+
+        assertEquals(contents(table), expected);
+    }
+
+    public void testUnsampledReport() {
+        // Not real allocations, the addresses are never dereferenced and cannot be returned by an allocator
+        long unsampled = 0xFFFF_FFFF_FFFF_E000L;
+        long sampled   = 0xFFFF_FFFF_FFFF_F000L;
+
+        long threadId = Thread.currentThread().getId();
+
+        track(unsampled, 16L, false);
+        track(sampled, 4096L, true);
+        try {
+            boolean[] found = new boolean[1];
+            report((address, memory, thread, threadName, stacktrace) -> {
+                assertNotEquals(address, unsampled);
+                assertNotEquals(thread, NULL);
+                assertNotNull(threadName);
+                assertNotNull(stacktrace);
+                if (address == sampled) {
+                    assertEquals(memory, 4096L);
+                    assertEquals(thread, threadId);
+                    assertTrue(0 < stacktrace.length);
+                    found[0] = true;
+                }
+            });
+            assertTrue(found[0]);
+
+            for (Aggregate aggregate : Aggregate.values()) {
+                for (boolean groupByThread : new boolean[] {false, true}) {
+                    long[] total = new long[1];
+                    report((address, memory, thread, threadName, stacktrace) -> {
+                        assertEquals(address, NULL);
+                        if (groupByThread) {
+                            assertNotEquals(thread, NULL);
+                            assertNotNull(threadName);
+                        }
+                        if (aggregate != Aggregate.ALL) {
+                            assertNotNull(stacktrace);
+                        }
+                        total[0] += memory;
+                    }, aggregate, groupByThread);
+
+                    assertTrue(4096L <= total[0]);
+                    if (aggregate == Aggregate.ALL && !groupByThread) {
+                        // exact, includes the unsampled allocation
+                        assertTrue(16L + 4096L <= total[0]);
+                    }
+                }
+            }
+        } finally {
+            assertEquals(untrack(sampled), 4096L);
+            assertEquals(untrack(unsampled), 16L);
+        }
+    }
+
+    public void testSamplingExtrapolation() {
+        int  sampleRate = 8;
+        long sampleSize = 4096L;
+
+        Random random = new Random(42L);
+
+        long count = 0L, bytes = 0L;
+        long sampledCount = 0L, sampledBytes = 0L;
+        long estimatedCount = 0L, estimatedBytes = 0L;
+        for (int i = 0; i < 200_000; i++) {
+            // mostly small allocations, with a few above the sample size
+            long size = random.nextInt(100) == 0 ? sampleSize + random.nextInt(100_000) : 1L + random.nextInt(256);
+
+            count++;
+            bytes += size;
+
+            if (isSampled(size, sampleRate, sampleSize, random)) {
+                long weight = getWeight(size, sampleRate, sampleSize);
+
+                sampledCount++;
+                sampledBytes += size;
+                estimatedCount += weight;
+                estimatedBytes += size * weight;
+            } else {
+                assertTrue(size < sampleSize);
+            }
+        }
+
+        assertTrue(sampledCount < count / 4L);
+        assertTrue(sampledBytes < bytes);
+
+        assertEquals((double)estimatedCount, (double)count, count * 0.02);
+        assertEquals((double)estimatedBytes, (double)bytes, bytes * 0.02);
+    }
+
+    public void testSamplingWeight() {
+        // Allocations at or above the sample size are always sampled and represent only themselves
+        Random never = new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return bound - 1;
+            }
+        };
+        assertTrue(isSampled(4096L, 8, 4096L, never));
+        assertEquals(getWeight(4096L, 8, 4096L), 1L);
+
+        assertFalse(isSampled(4095L, 8, 4096L, never));
+        assertEquals(getWeight(4095L, 8, 4096L), 8L);
+
+        // No size threshold
+        assertFalse(isSampled(1L << 30, 8, 0L, never));
+        assertEquals(getWeight(1L << 30, 8, 0L), 8L);
+
+        // Without sampling, every allocation is captured
+        assertTrue(isSampled(1L, 1, 0L, never));
+        assertEquals(getWeight(1L, 1, 0L), 1L);
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.annotations.*;
+
+import static org.lwjgl.system.FunctionProfiler.*;
+import static org.testng.Assert.*;
+
+@Test
+public class FunctionProfilerTest {
+
+    public void testHistogramBucketsSmall() {
+        for (int i = 0; i < 8; i++) {
+            assertEquals(getHistogramBucket(i), i);
+            assertEquals(getHistogramBucketValue(i), i);
+        }
+        assertEquals(getHistogramBucket(-1L), 0);
+    }
+
+    public void testHistogramBucketsMonotonic() {
+        int bucket = 0;
+        for (long time = 0L; time < 1 << 20; time++) {
+            int b = getHistogramBucket(time);
+            assertTrue(b == bucket || b == bucket + 1, Long.toString(time));
+            bucket = b;
+        }
+        assertEquals(getHistogramBucket(Long.MAX_VALUE), HISTOGRAM_BUCKETS - 5);
+    }
+
+    public void testHistogramBucketValues() {
+        long[] times = {8L, 9L, 15L, 16L, 1000L, 123_456_789L, 1L << 40, Long.MAX_VALUE};
+        for (long time : times) {
+            long value = getHistogramBucketValue(getHistogramBucket(time));
+            assertTrue(value <= time, Long.toString(time));
+            assertTrue(time - value < Math.max(1L, value / 4), Long.toString(time));
+            assertEquals(getHistogramBucket(value), getHistogramBucket(time));
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LargePagesTest {
+
+    private static final String SMAPS =
+        "7f0000000000-7f0000400000 rw-p 00000000 00:00 0 \n" +
+        "Size:               4096 kB\n" +
+        "AnonHugePages:      4096 kB\n" +
+        "VmFlags: rd wr mr mw me ac hg\n" +
+        "7f0000400000-7f0000600000 rw-p 00000000 00:00 0 \n" +
+        "Size:               2048 kB\n" +
+        "AnonHugePages:         0 kB\n" +
+        "VmFlags: rd wr mr mw me ac\n" +
+        "7f0000600000-7f0000a00000 r--p 00000000 08:01 1234                       /usr/lib/libfoo-1.so\n" +
+        "Size:               4096 kB\n" +
+        "AnonHugePages:      2048 kB\n" +
+        "VmFlags: rd mr mw me\n";
+
+    private static long parse(long[] starts, long[] ends) throws IOException {
+        return LargePages.getHugePageBytes(new BufferedReader(new StringReader(SMAPS)), starts, ends);
+    }
+
+    public void testSmapsParsing() throws IOException {
+        // whole first mapping
+        assertEquals(parse(new long[] {0x7f0000000000L}, new long[] {0x7f0000400000L}), 4096L * 1024L);
+        // part of the first mapping is clamped
+        assertEquals(parse(new long[] {0x7f0000000000L}, new long[] {0x7f0000100000L}), 1024L * 1024L);
+        // no huge pages
+        assertEquals(parse(new long[] {0x7f0000400000L}, new long[] {0x7f0000600000L}), 0L);
+        // spans all mappings
+        assertEquals(parse(new long[] {0x7f0000000000L}, new long[] {0x7f0000a00000L}), 6144L * 1024L);
+        // outside of all mappings
+        assertEquals(parse(new long[] {0x10000L}, new long[] {0x20000L}), 0L);
+    }
+
+    public void testAllocation() {
+        LargePageStats stats = memLargeStats();
+
+        long allocations = stats.getAllocationCount();
+        long frees = stats.getFreeCount();
+
+        int size = 8 * 1024 * 1024;
+
+        ByteBuffer buffer = memAllocLarge(size, MEM_HUGE_PAGES | MEM_PREFAULT, MEM_NUMA_NODE_ANY);
+        assertEquals(buffer.capacity(), size);
+        assertEquals(memAddress(buffer) & (PAGE_SIZE - 1), 0L);
+
+        for (int i = 0; i < size; i += PAGE_SIZE) {
+            buffer.put(i, (byte)i);
+        }
+        for (int i = 0; i < size; i += PAGE_SIZE) {
+            assertEquals(buffer.get(i), (byte)i);
+        }
+
+        assertTrue(0L <= memHugePageBytes(memAddress(buffer), size));
+        assertTrue(memHugePageBytes(memAddress(buffer), size) <= size);
+
+        assertEquals(stats.getAllocationCount(), allocations + 1);
+        memFreeLarge(buffer);
+        assertEquals(stats.getFreeCount(), frees + 1);
+
+        expectThrows(IllegalArgumentException.class, () -> memFreeLarge(buffer));
+    }
+
+    public void testNUMA() {
+        long address = nmemAllocLarge(1024 * 1024, 0, 0);
+        assertNotEquals(address, NULL);
+        memPutLong(address, 0xDEADBEEFL);
+        assertEquals(memGetLong(address), 0xDEADBEEFL);
+        nmemFreeLarge(address);
+    }
+
+}
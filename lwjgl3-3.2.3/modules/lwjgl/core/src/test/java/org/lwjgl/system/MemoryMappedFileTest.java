@@ -0,0 +1,127 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.MemoryMappedFile.*;
+import org.lwjgl.system.libc.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel.*;
+import java.nio.file.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class MemoryMappedFileTest {
+
+    private static final int FILE_SIZE = 3 * 65536 + 123;
+
+    private static Path createFile() throws IOException {
+        byte[] data = new byte[FILE_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte)(i * 31);
+        }
+
+        Path path = Files.createTempFile("lwjgl", ".bin");
+        Files.write(path, data);
+        return path;
+    }
+
+    public void testReadOnly() throws IOException {
+        Path path = createFile();
+        try (MemoryMappedFile file = memMapFile(path, MapMode.READ_ONLY)) {
+            assertEquals(file.size(), FILE_SIZE);
+            assertNotEquals(file.address(), NULL);
+
+            ByteBuffer buffer = file.buffer();
+            assertEquals(buffer.remaining(), FILE_SIZE);
+            assertEquals(buffer.order(), ByteOrder.nativeOrder());
+            for (int i = 0; i < FILE_SIZE; i++) {
+                assertEquals(buffer.get(i), (byte)(i * 31));
+            }
+
+            for (Advice advice : Advice.values()) {
+                boolean applied = file.advise(advice);
+                if (Platform.get() != Platform.WINDOWS && advice != Advice.HUGEPAGE) {
+                    // the portable advices are valid for any mapping
+                    assertTrue(applied, advice + " (errno: " + LibCErrno.getErrno() + ")");
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    public void testUnalignedRegion() throws IOException {
+        Path path = createFile();
+        try (MemoryMappedFile file = MemoryMappedFile.map(path, MapMode.READ_ONLY, 65536 + 7, 1000)) {
+            assertEquals(file.size(), 1000);
+
+            ByteBuffer buffer = file.buffer(10, 20);
+            assertEquals(buffer.remaining(), 20);
+            assertEquals(memAddress(buffer), file.address() + 10);
+            for (int i = 0; i < 20; i++) {
+                assertEquals(buffer.get(i), (byte)((65536 + 7 + 10 + i) * 31));
+            }
+
+            file.advise(500, 500, Advice.SEQUENTIAL);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    public void testReadWrite() throws IOException {
+        Path path = createFile();
+        try {
+            try (MemoryMappedFile file = MemoryMappedFile.map(path, MapMode.READ_WRITE)) {
+                memPutByte(file.address() + 100, (byte)0xAB);
+            }
+            assertEquals(Files.readAllBytes(path)[100], (byte)0xAB);
+
+            try (MemoryMappedFile file = MemoryMappedFile.map(path, MapMode.PRIVATE)) {
+                memPutByte(file.address() + 100, (byte)0xCD);
+                assertEquals(memGetByte(file.address() + 100), (byte)0xCD);
+            }
+            assertEquals(Files.readAllBytes(path)[100], (byte)0xAB);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    public void testFree() throws IOException {
+        Path path = createFile();
+        try {
+            MemoryMappedFile file = MemoryMappedFile.map(path, MapMode.READ_ONLY);
+            file.free();
+            assertEquals(file.address(), NULL);
+            expectThrows(IllegalStateException.class, file::buffer);
+
+            // free is idempotent
+            file.free();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    public void testInvalidRegion() throws IOException {
+        Path path = createFile();
+        try {
+            expectThrows(IllegalArgumentException.class, () -> MemoryMappedFile.map(path, MapMode.READ_ONLY, 0, 0));
+            expectThrows(IllegalArgumentException.class, () -> MemoryMappedFile.map(path, MapMode.READ_ONLY, -1, 10));
+            expectThrows(IllegalArgumentException.class, () -> MemoryMappedFile.map(path, MapMode.READ_ONLY, FILE_SIZE - 10, 11));
+
+            try (MemoryMappedFile file = MemoryMappedFile.map(path, MapMode.READ_ONLY, 0, 100)) {
+                expectThrows(IndexOutOfBoundsException.class, () -> file.buffer(90, 11));
+                expectThrows(IndexOutOfBoundsException.class, () -> file.advise(-1, 10, Advice.NORMAL));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+}
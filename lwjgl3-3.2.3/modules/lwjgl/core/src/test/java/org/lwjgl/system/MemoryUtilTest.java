@@ -64,6 +64,96 @@ public class MemoryUtilTest {
         expectThrows(OutOfMemoryError.class, () -> nmemCallocChecked(1, -1L));
     }
 
+    public void testSlabAllocator() {
+        MemoryManage.SlabAllocator allocator = new MemoryManage.SlabAllocator();
+
+        long[] blocks = new long[1000];
+        for (int i = 0; i < blocks.length; i++) {
+            int size = i % 1024;
+
+            blocks[i] = allocator.malloc(size);
+            assertNotEquals(blocks[i], NULL);
+            assertEquals(blocks[i] & 15L, 0L);
+
+            memSet(blocks[i], i & 0xFF, size);
+        }
+
+        for (int i = 0; i < blocks.length; i++) {
+            int size = i % 1024;
+            for (int j = 0; j < size; j++) {
+                assertEquals(memGetByte(blocks[i] + j), (byte)i);
+            }
+
+            // move small blocks to the system allocator and back
+            long address = allocator.realloc(blocks[i], size + 600);
+            assertNotEquals(address, NULL);
+            address = allocator.realloc(address, size / 2 + 1);
+            assertNotEquals(address, NULL);
+            for (int j = 0; j < size / 2; j++) {
+                assertEquals(memGetByte(address + j), (byte)i);
+            }
+
+            allocator.free(address);
+        }
+
+        long address = allocator.calloc(8, 8);
+        for (int i = 0; i < 64; i++) {
+            assertEquals(memGetByte(address + i), 0);
+        }
+        allocator.free(address);
+
+        address = allocator.aligned_alloc(64, 128);
+        assertEquals(address & 63L, 0L);
+        allocator.aligned_free(address);
+    }
+
+    public void testAllocatorStats() {
+        String name = MemoryUtilTest.class.getName() + ".testAllocatorStats";
+
+        MemoryManage.StatsAllocator allocator = new MemoryManage.StatsAllocator(new MemoryManage.SlabAllocator(), name, true);
+        try {
+            checkAllocatorStats(allocator, name);
+        } finally {
+            allocator.stats.unregister();
+        }
+        assertNull(memStats(name));
+
+        // requested sizes only
+        allocator = new MemoryManage.StatsAllocator(new MemoryManage.SlabAllocator(), name, false);
+        try {
+            assertFalse(allocator.stats.isUsableSize());
+            checkAllocatorStats(allocator, name);
+            assertEquals(allocator.stats.getBytesAllocated(), 24 + 16 + 100);
+            assertEquals(allocator.stats.getBytesFreed(), 16 + 24 + 100);
+        } finally {
+            allocator.stats.unregister();
+        }
+    }
+
+    private static void checkAllocatorStats(MemoryManage.StatsAllocator allocator, String name) {
+        MemoryAllocatorStats stats = allocator.stats;
+        assertSame(memStats(name), stats);
+
+        long a = allocator.malloc(24);
+        long b = allocator.calloc(4, 4);
+        assertTrue(24 + 16 <= stats.getBytesLive());
+        assertEquals(stats.getAllocationCount(), 2);
+        assertEquals(stats.getLiveAllocationCount(), 2);
+        assertEquals(stats.getHistogram()[0], 1);
+        assertEquals(stats.getHistogram()[1], 1);
+
+        b = allocator.realloc(b, 100);
+        assertEquals(stats.getAllocationCount(), 2);
+        assertEquals(stats.getHistogram()[3], 1);
+
+        allocator.free(a);
+        allocator.free(b);
+        assertEquals(stats.getFreeCount(), 2);
+        assertEquals(stats.getLiveAllocationCount(), 0);
+        assertEquals(stats.getBytesLive(), 0);
+        assertEquals(stats.getBytesFreed(), stats.getBytesAllocated());
+    }
+
     public void testMemSet() {
         ByteBuffer buffer = BufferUtils.createByteBuffer(32);
         for (int i = 0; i < buffer.capacity(); i++) {
@@ -154,6 +244,85 @@ public class MemoryUtilTest {
         }
     }
 
+    public void testMemMismatch() {
+        long a = nmemAlloc(512 + 8);
+        long b = nmemAlloc(512 + 8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                for (int j = 0; j < 8; j++) {
+                    for (int bytes : new int[] {0, 1, 7, 8, 63, 64, 65, 512}) {
+                        for (int k = 0; k < bytes; k++) {
+                            memPutByte(a + i + k, (byte)k);
+                            memPutByte(b + j + k, (byte)k);
+                        }
+                        assertEquals(memMismatch(a + i, b + j, bytes), -1L);
+                        assertEquals(memCompare(a + i, b + j, bytes), 0);
+
+                        if (bytes != 0) {
+                            int mismatch = bytes * 5 / 7;
+                            memPutByte(b + j + mismatch, (byte)0xFF);
+                            assertEquals(memMismatch(a + i, b + j, bytes), mismatch);
+                            assertTrue(memCompare(a + i, b + j, bytes) < 0);
+                            assertTrue(memCompare(b + j, a + i, bytes) > 0);
+                        }
+                    }
+                }
+            }
+
+            if (CHECKS) {
+                expectThrows(IllegalArgumentException.class, () -> memMismatch(NULL, b, 8));
+                expectThrows(IllegalArgumentException.class, () -> memMismatch(a, NULL, 8));
+                expectThrows(IllegalArgumentException.class, () -> memCompare(a, b, -1));
+            }
+        } finally {
+            nmemFree(b);
+            nmemFree(a);
+        }
+    }
+
+    public void testTextCache() {
+        try (TextCache cache = TextCache.createUTF8(2)) {
+            long a = cache.nencode("uniform_a");
+            assertEquals(memUTF8(a), "uniform_a");
+            assertEquals(cache.nencode("uniform_a"), a);
+            assertEquals(cache.encode("uniform_a").remaining(), "uniform_a".length() + 1);
+
+            long b = cache.nencode("üniform_b");
+            assertEquals(memUTF8(b), "üniform_b");
+            assertEquals(cache.size(), 2);
+
+            // touch a, b is evicted
+            cache.nencode("uniform_a");
+            cache.nencode("uniform_c");
+            assertEquals(cache.size(), 2);
+            assertEquals(cache.nencode("uniform_a"), a);
+            assertEquals(cache.getBytes(), 2 * ("uniform_a".length() + 1));
+        }
+    }
+
+    public void testMemLengthNT1Misaligned() {
+        ByteBuffer buffer = memAlloc(64 + 8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                for (int j = 0; j < 64; j++) {
+                    memSet(buffer, 0x80);
+                    buffer.put(i + j, (byte)0);
+                    // 0x01 after 0x00 triggers false positives in the simple SWAR zero-byte test
+                    if (i + j + 1 < buffer.capacity()) {
+                        buffer.put(i + j + 1, (byte)0x01);
+                    }
+
+                    buffer.position(i);
+                    assertEquals(memLengthNT1(buffer), j);
+                    assertEquals(memASCII(memAddress(buffer)).length(), j);
+                    buffer.clear();
+                }
+            }
+        } finally {
+            memFree(buffer);
+        }
+    }
+
     public void testJNINewBuffer() {
         ByteBuffer buffer = BufferUtils.createByteBuffer(32);
         for (int i = 0; i < buffer.capacity(); i++) {
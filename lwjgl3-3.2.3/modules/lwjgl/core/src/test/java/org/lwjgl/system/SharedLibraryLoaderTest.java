@@ -0,0 +1,146 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.lwjgl.system.SharedLibraryLoader.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.jar.*;
+import java.util.stream.*;
+
+import static org.testng.Assert.*;
+
+@Test
+public class SharedLibraryLoaderTest {
+
+    private static final String PREFIX = "linux/x64/";
+
+    private static String lib(String name) {
+        return Platform.get().mapLibraryName(name);
+    }
+
+    private static byte[] content(String name) {
+        byte[] content = new byte[10_000 + name.length()];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte)(i * 31 + name.hashCode());
+        }
+        return content;
+    }
+
+    private static Path createNativesJar(Path directory) throws IOException {
+        Path jar = directory.resolve("lwjgl-test-natives-linux.jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String name : new String[] {
+                PREFIX + "org/lwjgl/" + lib("lwjgl"),
+                PREFIX + "org/lwjgl/foo/" + lib("foo"),
+                PREFIX + "org/lwjgl/foo/" + lib("foo") + ".sha1",
+                PREFIX + "org/lwjgl/bar/" + lib("bar"),
+                "windows/x64/org/lwjgl/baz/" + lib("baz")
+            }) {
+                output.putNextEntry(new JarEntry(name));
+                output.write(content(name.substring(name.lastIndexOf('/') + 1)));
+                output.closeEntry();
+            }
+            output.putNextEntry(new JarEntry(PREFIX + "org/lwjgl/empty/"));
+            output.closeEntry();
+        }
+        return jar;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            List<Path> paths = files.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    public void testPlatformPrefix() throws IOException {
+        assertEquals(
+            ParallelExtraction.getPlatformPrefix(new URL("jar:file:/lwjgl/lwjgl-natives-linux.jar!/linux/x64/org/lwjgl/" + lib("lwjgl"))),
+            "linux/x64/"
+        );
+        assertEquals(ParallelExtraction.getPlatformPrefix(new URL("jar:file:/lwjgl/lwjgl-natives-linux.jar!/org/lwjgl/" + lib("lwjgl"))), "");
+        assertNull(ParallelExtraction.getPlatformPrefix(new URL("file:/lwjgl/linux/x64/org/lwjgl/" + lib("lwjgl"))));
+    }
+
+    public void testJNILibrary() {
+        assertTrue(ParallelExtraction.isJNILibrary(lib(Platform.mapLibraryNameBundled("lwjgl"))));
+        assertTrue(ParallelExtraction.isJNILibrary(lib("lwjgl_opengl")));
+
+        assertFalse(ParallelExtraction.isJNILibrary(lib("glfw")));
+        assertFalse(ParallelExtraction.isJNILibrary(lib("openal")));
+        assertFalse(ParallelExtraction.isJNILibrary(lib("mylwjgl")));
+        assertFalse(ParallelExtraction.isJNILibrary("lwjgl.txt"));
+    }
+
+    public void testFindLibraries() throws IOException {
+        Path directory = Files.createTempDirectory("lwjgl");
+        try {
+            Path jar = createNativesJar(directory);
+
+            Map<String, URL> libraries = ParallelExtraction.findLibraries(Arrays.asList(jar, directory.resolve("missing.jar")), PREFIX);
+            assertEquals(libraries.keySet(), new LinkedHashSet<>(Arrays.asList(lib("lwjgl"), lib("foo"), lib("bar"))));
+            assertTrue(libraries.get(lib("foo")).toString().endsWith("!/" + PREFIX + "org/lwjgl/foo/" + lib("foo")));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    public void testExtractAll() throws Exception {
+        Path directory = Files.createTempDirectory("lwjgl");
+        Path target    = directory.resolve("extracted");
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Map<String, URL> libraries = ParallelExtraction.findLibraries(Collections.singletonList(createNativesJar(directory)), PREFIX);
+
+            Map<String, Long> lastModified = new HashMap<>();
+            for (Map.Entry<String, Future<Path>> extraction : ParallelExtraction.extractAll(target, libraries, executor, new ConcurrentHashMap<>()).entrySet()) {
+                Path file = extraction.getValue().get();
+                assertEquals(file, target.resolve(extraction.getKey()));
+                assertEquals(Files.readAllBytes(file), content(extraction.getKey()));
+
+                lastModified.put(extraction.getKey(), Files.getLastModifiedTime(file).toMillis());
+            }
+            assertEquals(lastModified.keySet(), libraries.keySet());
+
+            // The second extraction finds the existing files
+            for (Map.Entry<String, Future<Path>> extraction : ParallelExtraction.extractAll(target, libraries, executor, new ConcurrentHashMap<>()).entrySet()) {
+                Path file = extraction.getValue().get();
+                assertEquals(Files.readAllBytes(file), content(extraction.getKey()));
+                assertEquals(Files.getLastModifiedTime(file).toMillis(), (long)lastModified.get(extraction.getKey()));
+            }
+
+            // A modified file is extracted again
+            Path modified = target.resolve(lib("foo"));
+            Files.write(modified, new byte[] {1, 2, 3});
+            ParallelExtraction.extractAll(target, libraries, executor, new ConcurrentHashMap<>()).get(lib("foo")).get();
+            assertEquals(Files.readAllBytes(modified), content(lib("foo")));
+
+            // A library with a registered extraction is not extracted again
+            Files.write(modified, new byte[] {1, 2, 3});
+            ConcurrentMap<String, Future<Path>> extractions = new ConcurrentHashMap<>();
+            Future<Path>                        registered  = CompletableFuture.completedFuture(modified);
+            extractions.put(lib("foo"), registered);
+            for (Future<Path> extraction : ParallelExtraction.extractAll(target, libraries, executor, extractions).values()) {
+                extraction.get();
+            }
+            assertSame(extractions.get(lib("foo")), registered);
+            assertEquals(Files.readAllBytes(modified), new byte[] {1, 2, 3});
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+            delete(directory);
+        }
+    }
+
+}
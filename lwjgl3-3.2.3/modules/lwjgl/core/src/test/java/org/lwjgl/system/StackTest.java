@@ -87,6 +87,9 @@ public class StackTest {
         if (!CHECKS) {
             throw new SkipException("This test may not run with checks disabled.");
         }
+        if (Configuration.STACK_GROWABLE.get(false)) {
+            throw new SkipException("This test may not run with a growable stack.");
+        }
 
         expectThrows(OutOfMemoryError.class, () -> {
             try (MemoryStack stack = MemoryStack.create(8).push()) {
@@ -96,6 +99,57 @@ public class StackTest {
         });
     }
 
+    public void testGrowable() {
+        MemoryStack stack = MemoryStack.createGrowable(64);
+        try (MemoryStack outer = stack.push()) {
+            ByteBuffer a = outer.malloc(48);
+            ByteBuffer b = outer.malloc(8, 256);
+            assertEquals(memAddress(b) & 7L, 0L);
+
+            try (MemoryStack inner = outer.push()) {
+                IntBuffer c = inner.callocInt(1024);
+                for (int i = 0; i < c.capacity(); i++) {
+                    assertEquals(c.get(i), 0);
+                }
+            }
+
+            memSet(a, 1);
+            memSet(b, 2);
+            assertEquals(a.get(47), 1);
+            assertEquals(b.get(255), 2);
+        }
+
+        assertEquals(stack.getPointer(), stack.getSize());
+        assertEquals(stack.getFrameIndex(), 0);
+    }
+
+    public void testGrowableSegmentReuse() {
+        MemoryStack stack = MemoryStack.createGrowable(64);
+        try (MemoryStack outer = stack.push()) {
+            outer.malloc(48);
+
+            // overflows to a 64-byte segment, 32 bytes remain
+            long a = outer.nmalloc(1, 32);
+
+            long b;
+            try (MemoryStack inner = outer.push()) {
+                b = inner.nmalloc(1, 16);
+                assertEquals(b, a + 32);
+            }
+
+            // the space used by the inner frame is reused
+            long c = outer.nmalloc(1, 16);
+            assertEquals(c, b);
+
+            try (MemoryStack inner = outer.push()) {
+                // does not fit, a new segment is allocated and freed on pop
+                inner.nmalloc(1, 32);
+            }
+
+            assertEquals(outer.nmalloc(1, 16), c + 16);
+        }
+    }
+
     public void testSOE() {
         expectThrows(StackOverflowError.class, () -> {
             MemoryStack stack = MemoryStack.create();
@@ -6,8 +6,12 @@ package org.lwjgl.system;
 
 import org.lwjgl.*;
 import org.lwjgl.system.jni.*;
+import org.lwjgl.system.windows.*;
 import org.testng.annotations.*;
 
+import java.nio.*;
+import java.util.concurrent.atomic.*;
+
 import static org.lwjgl.system.MemoryStack.*;
 import static org.lwjgl.system.MemoryUtil.*;
 import static org.testng.Assert.*;
@@ -225,6 +229,71 @@ public class StructTest {
         }
     }
 
+    public void testBufferBulkAccessors() {
+        try (MemoryStack stack = stackPush()) {
+            POINT.Buffer buffer = POINT.callocStack(8, stack);
+
+            int[] xs = {1, 2, 3, 4, 5, 6, 7, 8};
+            buffer.putX(xs);
+            for (int i = 0; i < buffer.capacity(); i++) {
+                assertEquals(buffer.get(i).x(), xs[i]);
+                assertEquals(buffer.get(i).y(), 0);
+            }
+
+            IntBuffer ys = stack.ints(-1, -2, -3, -4);
+            buffer.position(2).limit(6).putY(ys);
+            assertEquals(ys.position(), 0);
+
+            int[] dst = new int[4];
+            buffer.getY(dst);
+            assertEquals(dst, new int[] {-1, -2, -3, -4});
+
+            IntBuffer x = stack.mallocInt(4);
+            buffer.getX(x);
+            assertEquals(x.get(0), 3);
+            assertEquals(x.get(3), 6);
+
+            buffer.clear();
+            assertEquals(buffer.get(1).y(), 0);
+            assertEquals(buffer.get(2).y(), -1);
+            assertEquals(buffer.get(6).y(), 0);
+
+            expectThrows(IllegalArgumentException.class, () -> buffer.getX(new int[7]));
+
+            long[] sum = {0L};
+            buffer.forEachAddress(address -> sum[0] += POINT.nx(address));
+            assertEquals(sum[0], 36L);
+        }
+    }
+
+    public void testBufferParallelForEach() {
+        JNINativeMethod.Buffer buffer = JNINativeMethod.calloc(100_000);
+        try {
+            buffer.position(10).limit(99_990);
+
+            long base = buffer.address0();
+            buffer.parallelForEach(4, i -> JNINativeMethod.nfnPtr(base + (long)i * JNINativeMethod.SIZEOF, i));
+            assertEquals(buffer.position(), 10);
+
+            AtomicLong sum = new AtomicLong();
+            buffer.parallelApply(4, it -> sum.addAndGet(it.fnPtr()));
+
+            long expected = 0L;
+            for (int i = 10; i < 99_990; i++) {
+                expected += i;
+            }
+            assertEquals(sum.get(), expected);
+
+            buffer.clear();
+            assertEquals(buffer.get(9).fnPtr(), NULL);
+            assertEquals(buffer.get(99_990).fnPtr(), NULL);
+
+            assertEquals(buffer.parallelStream().mapToLong(JNINativeMethod::fnPtr).sum(), expected);
+        } finally {
+            buffer.free();
+        }
+    }
+
     public void testValidation() {
         try (MemoryStack stack = stackPush()) {
             JNINativeMethod s = JNINativeMethod.callocStack(stack);
@@ -0,0 +1,199 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system.collections;
+
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+@Test
+public class CollectionsTest {
+
+    public void testLongLongMap() {
+        Random            random    = new Random(42);
+        Map<Long, Long>   reference = new HashMap<>();
+        try (LongLongMap map = new LongLongMap()) {
+            for (int i = 0; i < 100_000; i++) {
+                // small key range to exercise collisions, updates and removals; includes the 0 key
+                long key   = random.nextInt(4096) - 64;
+                long value = random.nextLong();
+                if (random.nextInt(3) == 0) {
+                    Long expected = reference.remove(key);
+                    assertEquals(map.remove(key), expected == null ? 0L : expected);
+                } else {
+                    Long expected = reference.put(key, value);
+                    assertEquals(map.put(key, value), expected == null ? 0L : expected);
+                }
+            }
+
+            assertEquals(map.size(), reference.size());
+            for (Map.Entry<Long, Long> e : reference.entrySet()) {
+                assertTrue(map.containsKey(e.getKey()));
+                assertEquals(map.get(e.getKey(), -1L), (long)e.getValue());
+            }
+            assertFalse(map.containsKey(1L << 40));
+
+            int[] count = {0};
+            map.forEach((key, value) -> {
+                assertEquals(value, (long)reference.get(key));
+                count[0]++;
+            });
+            assertEquals(count[0], reference.size());
+
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertEquals(map.get(0L, -1L), -1L);
+        }
+    }
+
+    /** Returns {@code count} keys that map to the specified home slot of a table with the specified capacity. */
+    private static long[] findKeys(int capacity, int home, int count) {
+        int    shift = Hashing.tableShift(capacity);
+        long[] keys  = new long[count];
+        int    found = 0;
+        for (long key = 16L; found < count; key += 16L) {
+            if (Hashing.index(key, shift) == home) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+
+    public void testLongLongMapBackwardShift() {
+        try (LongLongMap map = new LongLongMap()) {
+            int capacity = Hashing.tableCapacity(8);
+
+            // Probe sequences that start at the last two slots and wrap around to the start of the table
+            long[] last       = findKeys(capacity, capacity - 2, 3);
+            long[] secondLast = findKeys(capacity, capacity - 1, 2);
+
+            // slots: 14 = last[0], 15 = last[1], 0 = secondLast[0], 1 = last[2], 2 = secondLast[1]
+            assertEquals(map.put(last[0], 1L), 0L);
+            assertEquals(map.put(last[1], 2L), 0L);
+            assertEquals(map.put(secondLast[0], 3L), 0L);
+            assertEquals(map.put(last[2], 4L), 0L);
+            assertEquals(map.put(secondLast[1], 5L), 0L);
+
+            // Removing the head of the cluster must shift every entry back across the wrap-around
+            assertEquals(map.remove(last[0]), 1L);
+            assertFalse(map.containsKey(last[0]));
+
+            Map<Long, Long> expected = new HashMap<>();
+            expected.put(last[1], 2L);
+            expected.put(secondLast[0], 3L);
+            expected.put(last[2], 4L);
+            expected.put(secondLast[1], 5L);
+            assertEquals(contents(map), expected);
+
+            // Remove from the middle of the wrapped part of the cluster
+            assertEquals(map.remove(secondLast[0]), 3L);
+            expected.remove(secondLast[0]);
+            assertEquals(contents(map), expected);
+
+            for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+                // still reachable from its home slot
+                assertEquals(map.get(entry.getKey(), -1L), (long)entry.getValue());
+            }
+            for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+                assertEquals(map.remove(entry.getKey()), (long)entry.getValue());
+            }
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    private static Map<Long, Long> contents(LongLongMap map) {
+        Map<Long, Long> contents = new HashMap<>();
+        map.forEach((key, value) -> assertNull(contents.put(key, value)));
+        return contents;
+    }
+
+    public void testLongObjectMap() {
+        Random              random    = new Random(42);
+        Map<Long, String>   reference = new HashMap<>();
+        try (LongObjectMap<String> map = new LongObjectMap<>()) {
+            for (int i = 0; i < 100_000; i++) {
+                long key = (random.nextInt(2048) - 16) * 16L; // aligned keys, like addresses
+                if (random.nextInt(3) == 0) {
+                    assertEquals(map.remove(key), reference.remove(key));
+                } else {
+                    String value = Integer.toString(i);
+                    assertEquals(map.put(key, value), reference.put(key, value));
+                }
+            }
+
+            assertEquals(map.size(), reference.size());
+            for (Map.Entry<Long, String> e : reference.entrySet()) {
+                assertEquals(map.get(e.getKey()), e.getValue());
+            }
+
+            map.free();
+            assertTrue(map.isEmpty());
+            assertNull(map.get(16L));
+
+            // usable after free
+            map.put(16L, "a");
+            assertEquals(map.get(16L), "a");
+        }
+    }
+
+    public void testLongHashSet() {
+        Random    random    = new Random(42);
+        Set<Long> reference = new HashSet<>();
+        try (LongHashSet set = new LongHashSet(4)) {
+            for (int i = 0; i < 100_000; i++) {
+                long value = random.nextInt(4096) - 64;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(set.remove(value), reference.remove(value));
+                } else {
+                    assertEquals(set.add(value), reference.add(value));
+                }
+            }
+
+            assertEquals(set.size(), reference.size());
+            for (long value : reference) {
+                assertTrue(set.contains(value));
+            }
+
+            Set<Long> visited = new HashSet<>();
+            set.forEach(visited::add);
+            assertEquals(visited, reference);
+        }
+    }
+
+    public void testIntArrayList() {
+        try (IntArrayList list = new IntArrayList(2)) {
+            assertEquals(list.toArray().length, 0);
+
+            for (int i = 0; i < 1000; i++) {
+                list.add(i);
+            }
+            assertEquals(list.size(), 1000);
+            assertTrue(1000 <= list.capacity());
+            assertEquals(list.get(999), 999);
+
+            assertEquals(list.set(10, -10), 10);
+            assertEquals(list.indexOf(-10), 10);
+
+            assertEquals(list.removeAt(0), 0);
+            assertEquals(list.get(0), 1);
+            assertEquals(list.size(), 999);
+            assertEquals(list.removeLast(), 999);
+
+            list.addAll(IntBuffer.wrap(new int[] {7, 8, 9}));
+            IntBuffer buffer = list.buffer();
+            assertEquals(buffer.remaining(), 1001);
+            assertEquals(buffer.get(1000), 9);
+
+            expectThrows(IndexOutOfBoundsException.class, () -> list.get(1001));
+
+            list.clear();
+            assertTrue(list.isEmpty());
+        }
+    }
+
+}
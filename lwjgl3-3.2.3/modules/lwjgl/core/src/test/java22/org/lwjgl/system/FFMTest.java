@@ -0,0 +1,124 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.system;
+
+import org.testng.annotations.*;
+
+import java.lang.foreign.*;
+import java.lang.invoke.*;
+
+import static java.lang.foreign.ValueLayout.*;
+import static org.testng.Assert.*;
+
+/**
+ * Calls C standard library functions via the {@link JNI} class and via {@link FFM} downcall handles, and compares the results.
+ *
+ * <p>With the default configuration, the {@code JNI} methods use the JNI functions registered by {@link FFM#registerNatives}, so this test compares the
+ * two backends. With {@code -Dorg.lwjgl.system.jni.ffm=true}, both sides use downcall handles.</p>
+ */
+@Test
+public class FFMTest {
+
+    private static final SymbolLookup LIBC = Linker.nativeLinker().defaultLookup();
+
+    private static long address(String name) {
+        return LIBC.find(name).orElseThrow(() -> new IllegalStateException("Missing libc function: " + name)).address();
+    }
+
+    private static long cstring(Arena arena, String text) {
+        return arena.allocateFrom(text).address();
+    }
+
+    public void testIntReturn() throws Throwable {
+        long getpid = address(Platform.get() == Platform.WINDOWS ? "_getpid" : "getpid");
+        int  pid    = JNI.invokeI(getpid);
+        assertEquals(pid, (int)ProcessHandle.current().pid());
+        assertEquals((int)FFM.downcall(false, JAVA_INT).invokeExact(getpid), pid);
+
+        long abs = address("abs");
+        assertEquals(JNI.invokeI(-42, abs), 42);
+        assertEquals((int)FFM.downcall(false, JAVA_INT, JAVA_INT).invokeExact(-42, abs), 42);
+        assertEquals(JNI.invokeI(Integer.MIN_VALUE + 1, abs), Integer.MAX_VALUE);
+    }
+
+    public void testPointerArguments() throws Throwable {
+        try (Arena arena = Arena.ofConfined()) {
+            long text = cstring(arena, "Lightweight Java Game Library");
+
+            long strlen = address("strlen");
+            assertEquals(JNI.invokePP(text, strlen), 29L);
+            assertEquals((long)FFM.downcall(false, JAVA_LONG, JAVA_LONG).invokeExact(text, strlen), 29L);
+
+            long memcmp = address("memcmp");
+            long a      = cstring(arena, "abcd");
+            long b      = cstring(arena, "abce");
+
+            MethodHandle memcmpFFM = FFM.downcall(false, JAVA_INT, JAVA_LONG, JAVA_LONG, JAVA_LONG);
+            for (long size = 0; size <= 4; size++) {
+                int result = JNI.invokePPPI(a, b, size, memcmp);
+                assertEquals(Integer.signum(result), size < 4 ? 0 : -1);
+                assertEquals(Integer.signum((int)memcmpFFM.invokeExact(a, b, size, memcmp)), Integer.signum(result));
+            }
+        }
+    }
+
+    public void testMixedArguments() throws Throwable {
+        long malloc = address("malloc");
+        long memset = address("memset");
+        long free   = address("free");
+
+        long block = JNI.invokePP(64L, malloc);
+        assertNotEquals(block, 0L);
+        try {
+            // (pointer, int, size_t) -> pointer
+            assertEquals(JNI.invokePPP(block, 0x5A, 32L, memset), block);
+            assertEquals((long)FFM.downcall(false, JAVA_LONG, JAVA_LONG, JAVA_INT, JAVA_LONG).invokeExact(block + 32L, 0xA5, 32L, memset), block + 32L);
+
+            MemorySegment segment = MemorySegment.ofAddress(block).reinterpret(64L);
+            for (int i = 0; i < 64; i++) {
+                assertEquals(segment.get(JAVA_BYTE, i), i < 32 ? (byte)0x5A : (byte)0xA5);
+            }
+        } finally {
+            // void return
+            JNI.invokePV(block, free);
+        }
+
+        long other = JNI.invokePP(16L, malloc);
+        assertNotEquals(other, 0L);
+        FFM.downcall(false, null, JAVA_LONG).invokeExact(other, free);
+    }
+
+    public void testFloatingPointReturn() throws Throwable {
+        try (Arena arena = Arena.ofConfined()) {
+            long text = cstring(arena, "-1234.5625");
+
+            long strtod = address("strtod");
+            assertEquals(JNI.invokePPD(text, 0L, strtod), -1234.5625);
+            assertEquals((double)FFM.downcall(false, JAVA_DOUBLE, JAVA_LONG, JAVA_LONG).invokeExact(text, 0L, strtod), -1234.5625);
+
+            long strtof = address("strtof");
+            assertEquals(JNI.invokePPF(text, 0L, strtof), -1234.5625f);
+            assertEquals((float)FFM.downcall(false, JAVA_FLOAT, JAVA_LONG, JAVA_LONG).invokeExact(text, 0L, strtof), -1234.5625f);
+        }
+    }
+
+    public void testCLongReturn() throws Throwable {
+        try (Arena arena = Arena.ofConfined()) {
+            // fits in a 32-bit C long on Windows
+            long text = cstring(arena, "-2000000000");
+
+            long atol = address("atol");
+            assertEquals(JNI.invokePN(text, atol), -2_000_000_000L);
+            assertEquals((long)FFM.downcall(false, FFM.C_LONG, JAVA_LONG).invokeExact(text, atol), -2_000_000_000L);
+        }
+    }
+
+    public void testCritical() throws Throwable {
+        // Critical handles are only created if enabled, the adaptation must be the same either way.
+        long abs = address("abs");
+        assertEquals((int)FFM.downcall(true, JAVA_INT, JAVA_INT).invokeExact(-7, abs), 7);
+    }
+
+}
@@ -1164,6 +1164,8 @@ public class CU {
         CUDA_ERROR_STREAM_CAPTURE_WRONG_THREAD    = 0x38C,
         CUDA_ERROR_UNKNOWN                        = 0x3E7;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU.class, "cuGetErrorString,cuGetErrorName,cuInit,cuDriverGetVersion,cuDeviceGet,cuDeviceGetCount,cuDeviceGetName,cuDeviceTotalMem,cuDeviceGetAttribute,cuDeviceGetProperties,cuDeviceComputeCapability,cuCtxCreate,cuCtxGetDevice,cuCtxSynchronize,cuCtxSetLimit,cuCtxGetLimit,cuCtxGetCacheConfig,cuCtxSetCacheConfig,cuCtxGetApiVersion,cuCtxGetStreamPriorityRange,cuCtxAttach,cuCtxDetach,cuModuleLoad,cuModuleLoadData,cuModuleLoadDataEx,cuModuleLoadFatBinary,cuModuleUnload,cuModuleGetFunction,cuModuleGetGlobal,cuModuleGetTexRef,cuModuleGetSurfRef,cuMemGetInfo,cuMemAlloc,cuMemAllocPitch,cuMemFree,cuMemGetAddressRange,cuMemAllocHost,cuMemFreeHost,cuMemHostAlloc,cuMemHostGetDevicePointer,cuMemHostGetFlags,cuMemcpyHtoD,cuMemcpyDtoH,cuMemcpyDtoD,cuMemcpyDtoA,cuMemcpyAtoD,cuMemcpyHtoA,cuMemcpyAtoH,cuMemcpyAtoA,cuMemcpy2D,cuMemcpy2DUnaligned,cuMemcpy3D,cuMemcpyHtoDAsync,cuMemcpyDtoHAsync,cuMemcpyDtoDAsync,cuMemcpyHtoAAsync,cuMemcpyAtoHAsync,cuMemcpy2DAsync,cuMemcpy3DAsync,cuMemsetD8,cuMemsetD16,cuMemsetD32,cuMemsetD2D8,cuMemsetD2D16,cuMemsetD2D32,cuMemsetD8Async,cuMemsetD16Async,cuMemsetD32Async,cuMemsetD2D8Async,cuMemsetD2D16Async,cuMemsetD2D32Async,cuArrayCreate,cuArrayGetDescriptor,cuArrayDestroy,cuArray3DCreate,cuArray3DGetDescriptor,cuStreamCreate,cuStreamCreateWithPriority,cuStreamGetPriority,cuStreamGetFlags,cuStreamWaitEvent,cuStreamAddCallback,cuStreamQuery,cuStreamSynchronize,cuEventCreate,cuEventRecord,cuEventQuery,cuEventSynchronize,cuEventElapsedTime,cuFuncGetAttribute,cuFuncSetCacheConfig,cuFuncSetBlockShape,cuFuncSetSharedSize,cuParamSetSize,cuParamSeti,cuParamSetf,cuParamSetv,cuLaunch,cuLaunchGrid,cuLaunchGridAsync,cuParamSetTexRef,cuTexRefSetArray,cuTexRefSetMipmappedArray,cuTexRefSetAddress,cuTexRefSetAddress2D,cuTexRefSetFormat,cuTexRefSetAddressMode,cuTexRefSetFilterMode,cuTexRefSetMipmapFilterMode,cuTexRefSetMipmapLevelBias,cuTexRefSetMipmapLevelClamp,cuTexRefSetMaxAnisotropy,cuTexRefSetBorderColor,cuTexRefSetFlags,cuTexRefGetAddress,cuTexRefGetArray,cuTexRefGetMipmappedArray,cuTexRefGetAddressMode,cuTexRefGetFilterMode,cuTexRefGetFormat,cuTexRefGetMipmapFilterMode,cuTexRefGetMipmapLevelBias,cuTexRefGetMipmapLevelClamp,cuTexRefGetMaxAnisotropy,cuTexRefGetBorderColor,cuTexRefGetFlags,cuTexRefCreate,cuTexRefDestroy,cuSurfRefSetArray,cuSurfRefGetArray,cuGraphicsUnregisterResource,cuGraphicsSubResourceGetMappedArray,cuGraphicsResourceGetMappedPointer,cuGraphicsResourceSetMapFlags,cuGraphicsMapResources,cuGraphicsUnmapResources,cuGetExportTable");
+
     protected CU() {
         throw new UnsupportedOperationException();
     }
@@ -1326,7 +1328,8 @@ public class CU {
 
     public static int ncuGetErrorString(int error, long pStr) {
         long __functionAddress = Functions.GetErrorString;
-        return callPI(error, pStr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(error, pStr, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1341,7 +1344,8 @@ public class CU {
 
     public static int ncuGetErrorName(int error, long pStr) {
         long __functionAddress = Functions.GetErrorName;
-        return callPI(error, pStr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(error, pStr, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1357,14 +1361,16 @@ public class CU {
     @NativeType("CUresult")
     public static int cuInit(@NativeType("unsigned int") int Flags) {
         long __functionAddress = Functions.Init;
-        return callI(Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callI(Flags, __functionAddress));
     }
 
     // --- [ cuDriverGetVersion ] ---
 
     public static int ncuDriverGetVersion(long driverVersion) {
         long __functionAddress = Functions.DriverGetVersion;
-        return callPI(driverVersion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(driverVersion, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1379,7 +1385,8 @@ public class CU {
 
     public static int ncuDeviceGet(long device, int ordinal) {
         long __functionAddress = Functions.DeviceGet;
-        return callPI(device, ordinal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(device, ordinal, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1394,7 +1401,8 @@ public class CU {
 
     public static int ncuDeviceGetCount(long count) {
         long __functionAddress = Functions.DeviceGetCount;
-        return callPI(count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(count, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1409,7 +1417,8 @@ public class CU {
 
     public static int ncuDeviceGetName(long name, int len, int dev) {
         long __functionAddress = Functions.DeviceGetName;
-        return callPI(name, len, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPI(name, len, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1421,7 +1430,8 @@ public class CU {
 
     public static int ncuDeviceTotalMem(long bytes, int dev) {
         long __functionAddress = Functions.DeviceTotalMem;
-        return callPI(bytes, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPI(bytes, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1436,7 +1446,8 @@ public class CU {
 
     public static int ncuDeviceGetAttribute(long pi, int attrib, int dev) {
         long __functionAddress = Functions.DeviceGetAttribute;
-        return callPI(pi, attrib, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPI(pi, attrib, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1451,7 +1462,8 @@ public class CU {
 
     public static int ncuDeviceGetProperties(long prop, int dev) {
         long __functionAddress = Functions.DeviceGetProperties;
-        return callPI(prop, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPI(prop, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1463,7 +1475,8 @@ public class CU {
 
     public static int ncuDeviceComputeCapability(long major, long minor, int dev) {
         long __functionAddress = Functions.DeviceComputeCapability;
-        return callPPI(major, minor, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPI(major, minor, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1479,7 +1492,8 @@ public class CU {
 
     public static int ncuCtxCreate(long pctx, int flags, int dev) {
         long __functionAddress = Functions.CtxCreate;
-        return callPI(pctx, flags, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPI(pctx, flags, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1494,7 +1508,8 @@ public class CU {
 
     public static int ncuCtxGetDevice(long device) {
         long __functionAddress = Functions.CtxGetDevice;
-        return callPI(device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPI(device, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1510,7 +1525,8 @@ public class CU {
     @NativeType("CUresult")
     public static int cuCtxSynchronize() {
         long __functionAddress = Functions.CtxSynchronize;
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callI(__functionAddress));
     }
 
     // --- [ cuCtxSetLimit ] ---
@@ -1518,14 +1534,16 @@ public class CU {
     @NativeType("CUresult")
     public static int cuCtxSetLimit(@NativeType("CUlimit") int limit, @NativeType("size_t") long value) {
         long __functionAddress = Functions.CtxSetLimit;
-        return callPI(limit, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPI(limit, value, __functionAddress));
     }
 
     // --- [ cuCtxGetLimit ] ---
 
     public static int ncuCtxGetLimit(long pvalue, int limit) {
         long __functionAddress = Functions.CtxGetLimit;
-        return callPI(pvalue, limit, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPI(pvalue, limit, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1540,7 +1558,8 @@ public class CU {
 
     public static int ncuCtxGetCacheConfig(long pconfig) {
         long __functionAddress = Functions.CtxGetCacheConfig;
-        return callPI(pconfig, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPI(pconfig, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1556,14 +1575,16 @@ public class CU {
     @NativeType("CUresult")
     public static int cuCtxSetCacheConfig(@NativeType("CUfunc_cache") int config) {
         long __functionAddress = Functions.CtxSetCacheConfig;
-        return callI(config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callI(config, __functionAddress));
     }
 
     // --- [ cuCtxGetApiVersion ] ---
 
     public static int ncuCtxGetApiVersion(long ctx, long version) {
         long __functionAddress = Functions.CtxGetApiVersion;
-        return callPPI(ctx, version, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPPI(ctx, version, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1578,7 +1599,8 @@ public class CU {
 
     public static int ncuCtxGetStreamPriorityRange(long leastPriority, long greatestPriority) {
         long __functionAddress = Functions.CtxGetStreamPriorityRange;
-        return callPPI(leastPriority, greatestPriority, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPI(leastPriority, greatestPriority, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1594,7 +1616,8 @@ public class CU {
 
     public static int ncuCtxAttach(long pctx, int flags) {
         long __functionAddress = Functions.CtxAttach;
-        return callPI(pctx, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPI(pctx, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1613,14 +1636,16 @@ public class CU {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ cuModuleLoad ] ---
 
     public static int ncuModuleLoad(long module, long fname) {
         long __functionAddress = Functions.ModuleLoad;
-        return callPPI(module, fname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPI(module, fname, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1651,7 +1676,8 @@ public class CU {
 
     public static int ncuModuleLoadData(long module, long image) {
         long __functionAddress = Functions.ModuleLoadData;
-        return callPPI(module, image, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPPI(module, image, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1666,7 +1692,8 @@ public class CU {
 
     public static int ncuModuleLoadDataEx(long module, long image, int numOptions, long options, long optionValues) {
         long __functionAddress = Functions.ModuleLoadDataEx;
-        return callPPPPI(module, image, numOptions, options, optionValues, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callPPPPI(module, image, numOptions, options, optionValues, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1682,7 +1709,8 @@ public class CU {
 
     public static int ncuModuleLoadFatBinary(long module, long fatCubin) {
         long __functionAddress = Functions.ModuleLoadFatBinary;
-        return callPPI(module, fatCubin, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPPI(module, fatCubin, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1701,7 +1729,8 @@ public class CU {
         if (CHECKS) {
             check(hmod);
         }
-        return callPI(hmod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPI(hmod, __functionAddress));
     }
 
     // --- [ cuModuleGetFunction ] ---
@@ -1711,7 +1740,8 @@ public class CU {
         if (CHECKS) {
             check(hmod);
         }
-        return callPPPI(hfunc, hmod, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPPI(hfunc, hmod, name, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1745,7 +1775,8 @@ public class CU {
         if (CHECKS) {
             check(hmod);
         }
-        return callPPPPI(dptr, bytes, hmod, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPPPPI(dptr, bytes, hmod, name, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1781,7 +1812,8 @@ public class CU {
         if (CHECKS) {
             check(hmod);
         }
-        return callPPPI(pTexRef, hmod, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPPPI(pTexRef, hmod, name, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1815,7 +1847,8 @@ public class CU {
         if (CHECKS) {
             check(hmod);
         }
-        return callPPPI(pSurfRef, hmod, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPPPI(pSurfRef, hmod, name, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1846,7 +1879,8 @@ public class CU {
 
     public static int ncuMemGetInfo(long free, long total) {
         long __functionAddress = Functions.MemGetInfo;
-        return callPPI(free, total, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPI(free, total, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1862,7 +1896,8 @@ public class CU {
 
     public static int ncuMemAlloc(long dptr, long bytesize) {
         long __functionAddress = Functions.MemAlloc;
-        return callPPI(dptr, bytesize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callPPI(dptr, bytesize, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1877,7 +1912,8 @@ public class CU {
 
     public static int ncuMemAllocPitch(long dptr, long pPitch, long WidthInBytes, long Height, int ElementSizeBytes) {
         long __functionAddress = Functions.MemAllocPitch;
-        return callPPPPI(dptr, pPitch, WidthInBytes, Height, ElementSizeBytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callPPPPI(dptr, pPitch, WidthInBytes, Height, ElementSizeBytes, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1897,7 +1933,8 @@ public class CU {
         if (CHECKS) {
             check(dptr);
         }
-        return callPI(dptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPI(dptr, __functionAddress));
     }
 
     // --- [ cuMemGetAddressRange ] ---
@@ -1907,7 +1944,8 @@ public class CU {
         if (CHECKS) {
             check(dptr);
         }
-        return callPPPI(pbase, psize, dptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPPI(pbase, psize, dptr, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1923,7 +1961,8 @@ public class CU {
 
     public static int ncuMemAllocHost(long pp, long bytesize) {
         long __functionAddress = Functions.MemAllocHost;
-        return callPPI(pp, bytesize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPI(pp, bytesize, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1938,7 +1977,8 @@ public class CU {
 
     public static int ncuMemFreeHost(long p) {
         long __functionAddress = Functions.MemFreeHost;
-        return callPI(p, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPI(p, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1950,7 +1990,8 @@ public class CU {
 
     public static int ncuMemHostAlloc(long pp, long bytesize, int Flags) {
         long __functionAddress = Functions.MemHostAlloc;
-        return callPPI(pp, bytesize, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPPI(pp, bytesize, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1965,7 +2006,8 @@ public class CU {
 
     public static int ncuMemHostGetDevicePointer(long pdptr, long p, int Flags) {
         long __functionAddress = Functions.MemHostGetDevicePointer;
-        return callPPI(pdptr, p, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPPI(pdptr, p, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1980,7 +2022,8 @@ public class CU {
 
     public static int ncuMemHostGetFlags(long pFlags, long p) {
         long __functionAddress = Functions.MemHostGetFlags;
-        return callPPI(pFlags, p, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPI(pFlags, p, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -1998,7 +2041,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPI(dstDevice, srcHost, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callPPPI(dstDevice, srcHost, ByteCount, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2043,7 +2087,8 @@ public class CU {
         if (CHECKS) {
             check(srcDevice);
         }
-        return callPPPI(dstHost, srcDevice, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPPPI(dstHost, srcDevice, ByteCount, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2090,7 +2135,8 @@ public class CU {
             check(dstDevice);
             check(srcDevice);
         }
-        return callPPPI(dstDevice, srcDevice, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPPPI(dstDevice, srcDevice, ByteCount, __functionAddress));
     }
 
     // --- [ cuMemcpyDtoA ] ---
@@ -2102,7 +2148,8 @@ public class CU {
             check(dstArray);
             check(srcDevice);
         }
-        return callPPPPI(dstArray, dstOffset, srcDevice, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callPPPPI(dstArray, dstOffset, srcDevice, ByteCount, __functionAddress));
     }
 
     // --- [ cuMemcpyAtoD ] ---
@@ -2114,7 +2161,8 @@ public class CU {
             check(dstDevice);
             check(srcArray);
         }
-        return callPPPPI(dstDevice, srcArray, srcOffset, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callPPPPI(dstDevice, srcArray, srcOffset, ByteCount, __functionAddress));
     }
 
     // --- [ cuMemcpyHtoA ] ---
@@ -2124,7 +2172,8 @@ public class CU {
         if (CHECKS) {
             check(dstArray);
         }
-        return callPPPPI(dstArray, dstOffset, srcHost, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, callPPPPI(dstArray, dstOffset, srcHost, ByteCount, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2169,7 +2218,8 @@ public class CU {
         if (CHECKS) {
             check(srcArray);
         }
-        return callPPPPI(dstHost, srcArray, srcOffset, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callPPPPI(dstHost, srcArray, srcOffset, ByteCount, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2216,7 +2266,8 @@ public class CU {
             check(dstArray);
             check(srcArray);
         }
-        return callPPPPPI(dstArray, dstOffset, srcArray, srcOffset, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPPPI(dstArray, dstOffset, srcArray, srcOffset, ByteCount, __functionAddress));
     }
 
     // --- [ cuMemcpy2D ] ---
@@ -2226,7 +2277,8 @@ public class CU {
         if (CHECKS) {
             CUDA_MEMCPY2D.validate(pCopy);
         }
-        return callPI(pCopy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPI(pCopy, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2241,7 +2293,8 @@ public class CU {
         if (CHECKS) {
             CUDA_MEMCPY2D.validate(pCopy);
         }
-        return callPI(pCopy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPI(pCopy, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2256,7 +2309,8 @@ public class CU {
         if (CHECKS) {
             CUDA_MEMCPY3D.validate(pCopy);
         }
-        return callPI(pCopy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, callPI(pCopy, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2271,7 +2325,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPI(dstDevice, srcHost, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, callPPPPI(dstDevice, srcHost, ByteCount, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2316,7 +2371,8 @@ public class CU {
         if (CHECKS) {
             check(srcDevice);
         }
-        return callPPPPI(dstHost, srcDevice, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, callPPPPI(dstHost, srcDevice, ByteCount, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2363,7 +2419,8 @@ public class CU {
             check(dstDevice);
             check(srcDevice);
         }
-        return callPPPPI(dstDevice, srcDevice, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, callPPPPI(dstDevice, srcDevice, ByteCount, hStream, __functionAddress));
     }
 
     // --- [ cuMemcpyHtoAAsync ] ---
@@ -2373,7 +2430,8 @@ public class CU {
         if (CHECKS) {
             check(dstArray);
         }
-        return callPPPPPI(dstArray, dstOffset, srcHost, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, callPPPPPI(dstArray, dstOffset, srcHost, ByteCount, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2418,7 +2476,8 @@ public class CU {
         if (CHECKS) {
             check(srcArray);
         }
-        return callPPPPPI(dstHost, srcArray, srcOffset, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, callPPPPPI(dstHost, srcArray, srcOffset, ByteCount, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2463,7 +2522,8 @@ public class CU {
         if (CHECKS) {
             CUDA_MEMCPY2D.validate(pCopy);
         }
-        return callPPI(pCopy, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, callPPI(pCopy, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2478,7 +2538,8 @@ public class CU {
         if (CHECKS) {
             CUDA_MEMCPY3D.validate(pCopy);
         }
-        return callPPI(pCopy, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, callPPI(pCopy, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2494,7 +2555,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPI(dstDevice, uc, N, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, callPPI(dstDevice, uc, N, __functionAddress));
     }
 
     // --- [ cuMemsetD16 ] ---
@@ -2505,7 +2567,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPI(dstDevice, us, N, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, callPPI(dstDevice, us, N, __functionAddress));
     }
 
     // --- [ cuMemsetD32 ] ---
@@ -2516,7 +2579,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPI(dstDevice, ui, N, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callPPI(dstDevice, ui, N, __functionAddress));
     }
 
     // --- [ cuMemsetD2D8 ] ---
@@ -2527,7 +2591,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPI(dstDevice, dstPitch, uc, Width, Height, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, callPPPPI(dstDevice, dstPitch, uc, Width, Height, __functionAddress));
     }
 
     // --- [ cuMemsetD2D16 ] ---
@@ -2538,7 +2603,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPI(dstDevice, dstPitch, us, Width, Height, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, callPPPPI(dstDevice, dstPitch, us, Width, Height, __functionAddress));
     }
 
     // --- [ cuMemsetD2D32 ] ---
@@ -2549,7 +2615,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPI(dstDevice, dstPitch, ui, Width, Height, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, callPPPPI(dstDevice, dstPitch, ui, Width, Height, __functionAddress));
     }
 
     // --- [ cuMemsetD8Async ] ---
@@ -2560,7 +2627,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPI(dstDevice, uc, N, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, callPPPI(dstDevice, uc, N, hStream, __functionAddress));
     }
 
     // --- [ cuMemsetD16Async ] ---
@@ -2571,7 +2639,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPI(dstDevice, us, N, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, callPPPI(dstDevice, us, N, hStream, __functionAddress));
     }
 
     // --- [ cuMemsetD32Async ] ---
@@ -2582,7 +2651,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPI(dstDevice, ui, N, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, callPPPI(dstDevice, ui, N, hStream, __functionAddress));
     }
 
     // --- [ cuMemsetD2D8Async ] ---
@@ -2593,7 +2663,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPPI(dstDevice, dstPitch, uc, Width, Height, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, callPPPPPI(dstDevice, dstPitch, uc, Width, Height, hStream, __functionAddress));
     }
 
     // --- [ cuMemsetD2D16Async ] ---
@@ -2604,7 +2675,8 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPPI(dstDevice, dstPitch, us, Width, Height, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, callPPPPPI(dstDevice, dstPitch, us, Width, Height, hStream, __functionAddress));
     }
 
     // --- [ cuMemsetD2D32Async ] ---
@@ -2615,14 +2687,16 @@ public class CU {
         if (CHECKS) {
             check(dstDevice);
         }
-        return callPPPPPI(dstDevice, dstPitch, ui, Width, Height, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, callPPPPPI(dstDevice, dstPitch, ui, Width, Height, hStream, __functionAddress));
     }
 
     // --- [ cuArrayCreate ] ---
 
     public static int ncuArrayCreate(long pHandle, long pAllocateArray) {
         long __functionAddress = Functions.ArrayCreate;
-        return callPPI(pHandle, pAllocateArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, callPPI(pHandle, pAllocateArray, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2640,7 +2714,8 @@ public class CU {
         if (CHECKS) {
             check(hArray);
         }
-        return callPPI(pArrayDescriptor, hArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, callPPI(pArrayDescriptor, hArray, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2656,14 +2731,16 @@ public class CU {
         if (CHECKS) {
             check(hArray);
         }
-        return callPI(hArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, callPI(hArray, __functionAddress));
     }
 
     // --- [ cuArray3DCreate ] ---
 
     public static int ncuArray3DCreate(long pHandle, long pAllocateArray) {
         long __functionAddress = Functions.Array3DCreate;
-        return callPPI(pHandle, pAllocateArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, callPPI(pHandle, pAllocateArray, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2681,7 +2758,8 @@ public class CU {
         if (CHECKS) {
             check(hArray);
         }
-        return callPPI(pArrayDescriptor, hArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 75, __start, callPPI(pArrayDescriptor, hArray, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2693,7 +2771,8 @@ public class CU {
 
     public static int ncuStreamCreate(long phStream, int Flags) {
         long __functionAddress = Functions.StreamCreate;
-        return callPI(phStream, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, callPI(phStream, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2708,7 +2787,8 @@ public class CU {
 
     public static int ncuStreamCreateWithPriority(long phStream, int flags, int priority) {
         long __functionAddress = Functions.StreamCreateWithPriority;
-        return callPI(phStream, flags, priority, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, callPI(phStream, flags, priority, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2726,7 +2806,8 @@ public class CU {
         if (CHECKS) {
             check(hStream);
         }
-        return callPPI(hStream, priority, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, callPPI(hStream, priority, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2744,7 +2825,8 @@ public class CU {
         if (CHECKS) {
             check(hStream);
         }
-        return callPPI(hStream, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, callPPI(hStream, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2763,7 +2845,8 @@ public class CU {
         if (CHECKS) {
             check(hEvent);
         }
-        return callPPI(hStream, hEvent, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, callPPI(hStream, hEvent, Flags, __functionAddress));
     }
 
     // --- [ cuStreamAddCallback ] ---
@@ -2773,7 +2856,8 @@ public class CU {
         if (CHECKS) {
             check(userData);
         }
-        return callPPPI(hStream, callback, userData, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 81, __start, callPPPI(hStream, callback, userData, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2786,7 +2870,8 @@ public class CU {
     @NativeType("CUresult")
     public static int cuStreamQuery(@NativeType("CUstream") long hStream) {
         long __functionAddress = Functions.StreamQuery;
-        return callPI(hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, callPI(hStream, __functionAddress));
     }
 
     // --- [ cuStreamSynchronize ] ---
@@ -2794,14 +2879,16 @@ public class CU {
     @NativeType("CUresult")
     public static int cuStreamSynchronize(@NativeType("CUstream") long hStream) {
         long __functionAddress = Functions.StreamSynchronize;
-        return callPI(hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 83, __start, callPI(hStream, __functionAddress));
     }
 
     // --- [ cuEventCreate ] ---
 
     public static int ncuEventCreate(long phEvent, int Flags) {
         long __functionAddress = Functions.EventCreate;
-        return callPI(phEvent, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 84, __start, callPI(phEvent, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2820,7 +2907,8 @@ public class CU {
         if (CHECKS) {
             check(hEvent);
         }
-        return callPPI(hEvent, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 85, __start, callPPI(hEvent, hStream, __functionAddress));
     }
 
     // --- [ cuEventQuery ] ---
@@ -2831,7 +2919,8 @@ public class CU {
         if (CHECKS) {
             check(hEvent);
         }
-        return callPI(hEvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 86, __start, callPI(hEvent, __functionAddress));
     }
 
     // --- [ cuEventSynchronize ] ---
@@ -2842,7 +2931,8 @@ public class CU {
         if (CHECKS) {
             check(hEvent);
         }
-        return callPI(hEvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 87, __start, callPI(hEvent, __functionAddress));
     }
 
     // --- [ cuEventElapsedTime ] ---
@@ -2853,7 +2943,8 @@ public class CU {
             check(hStart);
             check(hEnd);
         }
-        return callPPPI(pMilliseconds, hStart, hEnd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 88, __start, callPPPI(pMilliseconds, hStart, hEnd, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2871,7 +2962,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPPI(pi, attrib, hfunc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, callPPI(pi, attrib, hfunc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2890,7 +2982,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, callPI(hfunc, config, __functionAddress));
     }
 
     // --- [ cuFuncSetBlockShape ] ---
@@ -2901,7 +2994,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, x, y, z, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, callPI(hfunc, x, y, z, __functionAddress));
     }
 
     // --- [ cuFuncSetSharedSize ] ---
@@ -2912,7 +3006,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 92, __start, callPI(hfunc, bytes, __functionAddress));
     }
 
     // --- [ cuParamSetSize ] ---
@@ -2923,7 +3018,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, numbytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, callPI(hfunc, numbytes, __functionAddress));
     }
 
     // --- [ cuParamSeti ] ---
@@ -2934,7 +3030,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, offset, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 94, __start, callPI(hfunc, offset, value, __functionAddress));
     }
 
     // --- [ cuParamSetf ] ---
@@ -2945,7 +3042,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, offset, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 95, __start, callPI(hfunc, offset, value, __functionAddress));
     }
 
     // --- [ cuParamSetv ] ---
@@ -2955,7 +3053,8 @@ public class CU {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPPI(hfunc, offset, ptr, numbytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 96, __start, callPPI(hfunc, offset, ptr, numbytes, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -2971,7 +3070,8 @@ public class CU {
         if (CHECKS) {
             check(f);
         }
-        return callPI(f, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 97, __start, callPI(f, __functionAddress));
     }
 
     // --- [ cuLaunchGrid ] ---
@@ -2982,7 +3082,8 @@ public class CU {
         if (CHECKS) {
             check(f);
         }
-        return callPI(f, grid_width, grid_height, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 98, __start, callPI(f, grid_width, grid_height, __functionAddress));
     }
 
     // --- [ cuLaunchGridAsync ] ---
@@ -2993,7 +3094,8 @@ public class CU {
         if (CHECKS) {
             check(f);
         }
-        return callPPI(f, grid_width, grid_height, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 99, __start, callPPI(f, grid_width, grid_height, hStream, __functionAddress));
     }
 
     // --- [ cuParamSetTexRef ] ---
@@ -3005,7 +3107,8 @@ public class CU {
             check(hfunc);
             check(hTexRef);
         }
-        return callPPI(hfunc, texunit, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 100, __start, callPPI(hfunc, texunit, hTexRef, __functionAddress));
     }
 
     // --- [ cuTexRefSetArray ] ---
@@ -3017,7 +3120,8 @@ public class CU {
             check(hTexRef);
             check(hArray);
         }
-        return callPPI(hTexRef, hArray, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 101, __start, callPPI(hTexRef, hArray, Flags, __functionAddress));
     }
 
     // --- [ cuTexRefSetMipmappedArray ] ---
@@ -3029,7 +3133,8 @@ public class CU {
             check(hTexRef);
             check(hMipmappedArray);
         }
-        return callPPI(hTexRef, hMipmappedArray, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 102, __start, callPPI(hTexRef, hMipmappedArray, Flags, __functionAddress));
     }
 
     // --- [ cuTexRefSetAddress ] ---
@@ -3040,7 +3145,8 @@ public class CU {
             check(hTexRef);
             check(dptr);
         }
-        return callPPPPI(ByteOffset, hTexRef, dptr, bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 103, __start, callPPPPI(ByteOffset, hTexRef, dptr, bytes, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3059,7 +3165,8 @@ public class CU {
             check(hTexRef);
             check(dptr);
         }
-        return callPPPPI(hTexRef, desc, dptr, Pitch, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, callPPPPI(hTexRef, desc, dptr, Pitch, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3075,7 +3182,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, fmt, NumPackedComponents, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 105, __start, callPI(hTexRef, fmt, NumPackedComponents, __functionAddress));
     }
 
     // --- [ cuTexRefSetAddressMode ] ---
@@ -3086,7 +3194,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, dim, am, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 106, __start, callPI(hTexRef, dim, am, __functionAddress));
     }
 
     // --- [ cuTexRefSetFilterMode ] ---
@@ -3097,7 +3206,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, fm, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 107, __start, callPI(hTexRef, fm, __functionAddress));
     }
 
     // --- [ cuTexRefSetMipmapFilterMode ] ---
@@ -3108,7 +3218,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, fm, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 108, __start, callPI(hTexRef, fm, __functionAddress));
     }
 
     // --- [ cuTexRefSetMipmapLevelBias ] ---
@@ -3119,7 +3230,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, bias, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 109, __start, callPI(hTexRef, bias, __functionAddress));
     }
 
     // --- [ cuTexRefSetMipmapLevelClamp ] ---
@@ -3130,7 +3242,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, minMipmapLevelClamp, maxMipmapLevelClamp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 110, __start, callPI(hTexRef, minMipmapLevelClamp, maxMipmapLevelClamp, __functionAddress));
     }
 
     // --- [ cuTexRefSetMaxAnisotropy ] ---
@@ -3141,7 +3254,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, maxAniso, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 111, __start, callPI(hTexRef, maxAniso, __functionAddress));
     }
 
     // --- [ cuTexRefSetBorderColor ] ---
@@ -3151,7 +3265,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(hTexRef, pBorderColor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, callPPI(hTexRef, pBorderColor, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3170,7 +3285,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 113, __start, callPI(hTexRef, Flags, __functionAddress));
     }
 
     // --- [ cuTexRefGetAddress ] ---
@@ -3180,7 +3296,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pdptr, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 114, __start, callPPI(pdptr, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3198,7 +3315,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(phArray, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 115, __start, callPPI(phArray, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3216,7 +3334,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(phMipmappedArray, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 116, __start, callPPI(phMipmappedArray, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3234,7 +3353,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pam, hTexRef, dim, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 117, __start, callPPI(pam, hTexRef, dim, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3252,7 +3372,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pfm, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 118, __start, callPPI(pfm, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3270,7 +3391,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPPI(pFormat, pNumChannels, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 119, __start, callPPPI(pFormat, pNumChannels, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3289,7 +3411,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pfm, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 120, __start, callPPI(pfm, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3307,7 +3430,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pbias, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 121, __start, callPPI(pbias, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3325,7 +3449,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPPI(pminMipmapLevelClamp, pmaxMipmapLevelClamp, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 122, __start, callPPPI(pminMipmapLevelClamp, pmaxMipmapLevelClamp, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3344,7 +3469,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pmaxAniso, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 123, __start, callPPI(pmaxAniso, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3362,7 +3488,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pBorderColor, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 124, __start, callPPI(pBorderColor, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3380,7 +3507,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPPI(pFlags, hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 125, __start, callPPI(pFlags, hTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3395,7 +3523,8 @@ public class CU {
 
     public static int ncuTexRefCreate(long pTexRef) {
         long __functionAddress = Functions.TexRefCreate;
-        return callPI(pTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 126, __start, callPI(pTexRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3414,7 +3543,8 @@ public class CU {
         if (CHECKS) {
             check(hTexRef);
         }
-        return callPI(hTexRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 127, __start, callPI(hTexRef, __functionAddress));
     }
 
     // --- [ cuSurfRefSetArray ] ---
@@ -3426,7 +3556,8 @@ public class CU {
             check(hSurfRef);
             check(hArray);
         }
-        return callPPI(hSurfRef, hArray, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 128, __start, callPPI(hSurfRef, hArray, Flags, __functionAddress));
     }
 
     // --- [ cuSurfRefGetArray ] ---
@@ -3436,7 +3567,8 @@ public class CU {
         if (CHECKS) {
             check(hSurfRef);
         }
-        return callPPI(phArray, hSurfRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 129, __start, callPPI(phArray, hSurfRef, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3455,7 +3587,8 @@ public class CU {
         if (CHECKS) {
             check(resource);
         }
-        return callPI(resource, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 130, __start, callPI(resource, __functionAddress));
     }
 
     // --- [ cuGraphicsSubResourceGetMappedArray ] ---
@@ -3465,7 +3598,8 @@ public class CU {
         if (CHECKS) {
             check(resource);
         }
-        return callPPI(pArray, resource, arrayIndex, mipLevel, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 131, __start, callPPI(pArray, resource, arrayIndex, mipLevel, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3483,7 +3617,8 @@ public class CU {
         if (CHECKS) {
             check(resource);
         }
-        return callPPPI(pDevPtr, pSize, resource, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 132, __start, callPPPI(pDevPtr, pSize, resource, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3503,14 +3638,16 @@ public class CU {
         if (CHECKS) {
             check(resource);
         }
-        return callPI(resource, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 133, __start, callPI(resource, flags, __functionAddress));
     }
 
     // --- [ cuGraphicsMapResources ] ---
 
     public static int ncuGraphicsMapResources(int count, long resources, long hStream) {
         long __functionAddress = Functions.GraphicsMapResources;
-        return callPPI(count, resources, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 134, __start, callPPI(count, resources, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3522,7 +3659,8 @@ public class CU {
 
     public static int ncuGraphicsUnmapResources(int count, long resources, long hStream) {
         long __functionAddress = Functions.GraphicsUnmapResources;
-        return callPPI(count, resources, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 135, __start, callPPI(count, resources, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -3534,7 +3672,8 @@ public class CU {
 
     public static int ncuGetExportTable(long ppExportTable, long pExportTableId) {
         long __functionAddress = Functions.GetExportTable;
-        return callPPI(ppExportTable, pExportTableId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 136, __start, callPPI(ppExportTable, pExportTableId, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -102,6 +102,8 @@ public class CU100 extends CU92 {
         CU_EXTERNAL_SEMAPHORE_HANDLE_TYPE_OPAQUE_WIN32_KMT = 0x3,
         CU_EXTERNAL_SEMAPHORE_HANDLE_TYPE_D3D12_FENCE      = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU100.class, "cuDeviceGetLuid,cuStreamBeginCapture,cuStreamEndCapture,cuStreamIsCapturing,cuImportExternalMemory,cuExternalMemoryGetMappedBuffer,cuExternalMemoryGetMappedMipmappedArray,cuDestroyExternalMemory,cuImportExternalSemaphore,cuSignalExternalSemaphoresAsync,cuWaitExternalSemaphoresAsync,cuDestroyExternalSemaphore,cuLaunchHostFunc,cuGraphCreate,cuGraphAddKernelNode,cuGraphKernelNodeGetParams,cuGraphKernelNodeSetParams,cuGraphAddMemcpyNode,cuGraphMemcpyNodeGetParams,cuGraphMemcpyNodeSetParams,cuGraphAddMemsetNode,cuGraphMemsetNodeGetParams,cuGraphMemsetNodeSetParams,cuGraphAddHostNode,cuGraphHostNodeGetParams,cuGraphHostNodeSetParams,cuGraphAddChildGraphNode,cuGraphChildGraphNodeGetGraph,cuGraphAddEmptyNode,cuGraphClone,cuGraphNodeFindInClone,cuGraphNodeGetType,cuGraphGetNodes,cuGraphGetRootNodes,cuGraphGetEdges,cuGraphNodeGetDependencies,cuGraphNodeGetDependentNodes,cuGraphAddDependencies,cuGraphRemoveDependencies,cuGraphDestroyNode,cuGraphInstantiate,cuGraphLaunch,cuGraphExecDestroy,cuGraphDestroy");
+
     protected CU100() {
         throw new UnsupportedOperationException();
     }
@@ -167,7 +169,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(luid, deviceNodeMask, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(luid, deviceNodeMask, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -184,14 +187,16 @@ public class CU100 extends CU92 {
     @NativeType("CUresult")
     public static int cuStreamBeginCapture(@NativeType("CUstream") long hStream) {
         long __functionAddress = Functions.StreamBeginCapture;
-        return callPI(hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(hStream, __functionAddress));
     }
 
     // --- [ cuStreamEndCapture ] ---
 
     public static int ncuStreamEndCapture(long hStream, long phGraph) {
         long __functionAddress = Functions.StreamEndCapture;
-        return callPPI(hStream, phGraph, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(hStream, phGraph, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -206,7 +211,8 @@ public class CU100 extends CU92 {
 
     public static int ncuStreamIsCapturing(long hStream, long captureStatus) {
         long __functionAddress = Functions.StreamIsCapturing;
-        return callPPI(hStream, captureStatus, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(hStream, captureStatus, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -221,7 +227,8 @@ public class CU100 extends CU92 {
 
     public static int ncuImportExternalMemory(long extMem_out, long memHandleDesc) {
         long __functionAddress = Functions.ImportExternalMemory;
-        return callPPI(extMem_out, memHandleDesc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(extMem_out, memHandleDesc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -239,7 +246,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(extMem);
         }
-        return callPPPI(devPtr, extMem, bufferDesc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPI(devPtr, extMem, bufferDesc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -257,7 +265,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(extMem);
         }
-        return callPPPI(mipmap, extMem, mipmapDesc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(mipmap, extMem, mipmapDesc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -276,14 +285,16 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(extMem);
         }
-        return callPI(extMem, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPI(extMem, __functionAddress));
     }
 
     // --- [ cuImportExternalSemaphore ] ---
 
     public static int ncuImportExternalSemaphore(long extSem_out, long semHandleDesc) {
         long __functionAddress = Functions.ImportExternalSemaphore;
-        return callPPI(extSem_out, semHandleDesc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(extSem_out, semHandleDesc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -298,7 +309,8 @@ public class CU100 extends CU92 {
 
     public static int ncuSignalExternalSemaphoresAsync(long extSemArray, long paramsArray, int numExtSems, long stream) {
         long __functionAddress = Functions.SignalExternalSemaphoresAsync;
-        return callPPPI(extSemArray, paramsArray, numExtSems, stream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPI(extSemArray, paramsArray, numExtSems, stream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -313,7 +325,8 @@ public class CU100 extends CU92 {
 
     public static int ncuWaitExternalSemaphoresAsync(long extSemArray, long paramsArray, int numExtSems, long stream) {
         long __functionAddress = Functions.WaitExternalSemaphoresAsync;
-        return callPPPI(extSemArray, paramsArray, numExtSems, stream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPPI(extSemArray, paramsArray, numExtSems, stream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -332,7 +345,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(extSem);
         }
-        return callPI(extSem, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPI(extSem, __functionAddress));
     }
 
     // --- [ cuLaunchHostFunc ] ---
@@ -342,7 +356,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(userData);
         }
-        return callPPPI(hStream, fn, userData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPI(hStream, fn, userData, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -354,7 +369,8 @@ public class CU100 extends CU92 {
 
     public static int ncuGraphCreate(long phGraph, int flags) {
         long __functionAddress = Functions.GraphCreate;
-        return callPI(phGraph, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPI(phGraph, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -373,7 +389,8 @@ public class CU100 extends CU92 {
             check(hGraph);
             CUDA_KERNEL_NODE_PARAMS.validate(nodeParams);
         }
-        return callPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -391,7 +408,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -407,7 +425,8 @@ public class CU100 extends CU92 {
             check(hNode);
             CUDA_KERNEL_NODE_PARAMS.validate(nodeParams);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -424,7 +443,8 @@ public class CU100 extends CU92 {
             CUDA_MEMCPY3D.validate(copyParams);
             check(ctx);
         }
-        return callPPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, copyParams, ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, copyParams, ctx, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -442,7 +462,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -458,7 +479,8 @@ public class CU100 extends CU92 {
             check(hNode);
             CUDA_MEMCPY3D.validate(nodeParams);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -475,7 +497,8 @@ public class CU100 extends CU92 {
             CUDA_MEMSET_NODE_PARAMS.validate(memsetParams);
             check(ctx);
         }
-        return callPPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, memsetParams, ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, memsetParams, ctx, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -493,7 +516,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -509,7 +533,8 @@ public class CU100 extends CU92 {
             check(hNode);
             CUDA_MEMSET_NODE_PARAMS.validate(nodeParams);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -525,7 +550,8 @@ public class CU100 extends CU92 {
             check(hGraph);
             CUDA_HOST_NODE_PARAMS.validate(nodeParams);
         }
-        return callPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -543,7 +569,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -559,7 +586,8 @@ public class CU100 extends CU92 {
             check(hNode);
             CUDA_HOST_NODE_PARAMS.validate(nodeParams);
         }
-        return callPPI(hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPPI(hNode, nodeParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -575,7 +603,8 @@ public class CU100 extends CU92 {
             check(hGraph);
             check(childGraph);
         }
-        return callPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, childGraph, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPPPPPI(phGraphNode, hGraph, dependencies, numDependencies, childGraph, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -593,7 +622,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPI(hNode, phGraph, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPI(hNode, phGraph, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -611,7 +641,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPPI(phGraphNode, hGraph, dependencies, numDependencies, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPPPPI(phGraphNode, hGraph, dependencies, numDependencies, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -629,7 +660,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(originalGraph);
         }
-        return callPPI(phGraphClone, originalGraph, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPPI(phGraphClone, originalGraph, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -648,7 +680,8 @@ public class CU100 extends CU92 {
             check(hOriginalNode);
             check(hClonedGraph);
         }
-        return callPPPI(phNode, hOriginalNode, hClonedGraph, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPPPI(phNode, hOriginalNode, hClonedGraph, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -666,7 +699,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPI(hNode, type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPI(hNode, type, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -684,7 +718,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPI(hGraph, nodes, numNodes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callPPPI(hGraph, nodes, numNodes, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -703,7 +738,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPI(hGraph, rootNodes, numRootNodes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callPPPI(hGraph, rootNodes, numRootNodes, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -722,7 +758,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPPI(hGraph, from, to, numEdges, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPPPPI(hGraph, from, to, numEdges, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -742,7 +779,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPPI(hNode, dependencies, numDependencies, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPPI(hNode, dependencies, numDependencies, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -761,7 +799,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPPPI(hNode, dependentNodes, numDependentNodes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPPI(hNode, dependentNodes, numDependentNodes, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -780,7 +819,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPPI(hGraph, from, to, numDependencies, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPPPI(hGraph, from, to, numDependencies, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -798,7 +838,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPPI(hGraph, from, to, numDependencies, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPPPPI(hGraph, from, to, numDependencies, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -817,7 +858,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hNode);
         }
-        return callPI(hNode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPI(hNode, __functionAddress));
     }
 
     // --- [ cuGraphInstantiate ] ---
@@ -827,7 +869,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPPPPPI(phGraphExec, hGraph, phErrorNode, logBuffer, bufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPPPPI(phGraphExec, hGraph, phErrorNode, logBuffer, bufferSize, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -847,7 +890,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraphExec);
         }
-        return callPPI(hGraphExec, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callPPI(hGraphExec, hStream, __functionAddress));
     }
 
     // --- [ cuGraphExecDestroy ] ---
@@ -858,7 +902,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraphExec);
         }
-        return callPI(hGraphExec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPI(hGraphExec, __functionAddress));
     }
 
     // --- [ cuGraphDestroy ] ---
@@ -869,7 +914,8 @@ public class CU100 extends CU92 {
         if (CHECKS) {
             check(hGraph);
         }
-        return callPI(hGraph, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPI(hGraph, __functionAddress));
     }
 
 }
\ No newline at end of file
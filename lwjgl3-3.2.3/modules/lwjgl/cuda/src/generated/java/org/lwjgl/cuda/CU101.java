@@ -37,6 +37,8 @@ public class CU101 extends CU100 {
         CU_STREAM_CAPTURE_MODE_THREAD_LOCAL = 1,
         CU_STREAM_CAPTURE_MODE_RELAXED      = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU101.class, "cuStreamBeginCapture_v2,cuThreadExchangeStreamCaptureMode,cuStreamGetCaptureInfo,cuGraphExecKernelNodeSetParams");
+
     protected CU101() {
         throw new UnsupportedOperationException();
     }
@@ -60,7 +62,8 @@ public class CU101 extends CU100 {
     @NativeType("CUresult")
     public static int cuStreamBeginCapture_v2(@NativeType("CUstream") long hStream, @NativeType("CUstreamCaptureMode") int mode) {
         long __functionAddress = Functions.StreamBeginCapture_v2;
-        return callPI(hStream, mode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(hStream, mode, __functionAddress));
     }
 
     // --- [ cuThreadExchangeStreamCaptureMode ] ---
@@ -68,7 +71,8 @@ public class CU101 extends CU100 {
     /** Unsafe version of: {@link #cuThreadExchangeStreamCaptureMode ThreadExchangeStreamCaptureMode} */
     public static int ncuThreadExchangeStreamCaptureMode(long mode) {
         long __functionAddress = Functions.ThreadExchangeStreamCaptureMode;
-        return callPI(mode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(mode, __functionAddress));
     }
 
     /**
@@ -124,7 +128,8 @@ public class CU101 extends CU100 {
         if (CHECKS) {
             check(hStream);
         }
-        return callPPPI(hStream, captureStatus, id, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(hStream, captureStatus, id, __functionAddress));
     }
 
     /**
@@ -161,7 +166,8 @@ public class CU101 extends CU100 {
             check(hNode);
             CUDA_KERNEL_NODE_PARAMS.validate(nodeParams);
         }
-        return callPPPI(hGraphExec, hNode, nodeParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(hGraphExec, hNode, nodeParams, __functionAddress));
     }
 
     /**
@@ -72,6 +72,8 @@ public class CU40 extends CU {
         CU_POINTER_ATTRIBUTE_IS_MANAGED     = 0x8,
         CU_POINTER_ATTRIBUTE_DEVICE_ORDINAL = 0x9;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU40.class, "cuCtxDestroy,cuCtxPushCurrent,cuCtxPopCurrent,cuCtxSetCurrent,cuCtxGetCurrent,cuMemHostRegister,cuMemHostUnregister,cuMemcpy,cuMemcpyPeer,cuMemcpy3DPeer,cuMemcpyAsync,cuMemcpyPeerAsync,cuMemcpy3DPeerAsync,cuPointerGetAttribute,cuStreamDestroy,cuEventDestroy,cuLaunchKernel,cuDeviceCanAccessPeer,cuCtxEnablePeerAccess,cuCtxDisablePeerAccess");
+
     protected CU40() {
         throw new UnsupportedOperationException();
     }
@@ -114,7 +116,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ cuCtxPushCurrent ] ---
@@ -125,14 +128,16 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ cuCtxPopCurrent ] ---
 
     public static int ncuCtxPopCurrent(long pctx) {
         long __functionAddress = Functions.CtxPopCurrent;
-        return callPI(pctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(pctx, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -148,14 +153,16 @@ public class CU40 extends CU {
     @NativeType("CUresult")
     public static int cuCtxSetCurrent(@NativeType("CUcontext") long ctx) {
         long __functionAddress = Functions.CtxSetCurrent;
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ cuCtxGetCurrent ] ---
 
     public static int ncuCtxGetCurrent(long pctx) {
         long __functionAddress = Functions.CtxGetCurrent;
-        return callPI(pctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(pctx, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -170,7 +177,8 @@ public class CU40 extends CU {
 
     public static int ncuMemHostRegister(long p, long bytesize, int Flags) {
         long __functionAddress = Functions.MemHostRegister;
-        return callPPI(p, bytesize, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(p, bytesize, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -182,7 +190,8 @@ public class CU40 extends CU {
 
     public static int ncuMemHostUnregister(long p) {
         long __functionAddress = Functions.MemHostUnregister;
-        return callPI(p, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPI(p, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -199,7 +208,8 @@ public class CU40 extends CU {
             check(dst);
             check(src);
         }
-        return callPPPI(dst, src, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPI(dst, src, ByteCount, __functionAddress));
     }
 
     // --- [ cuMemcpyPeer ] ---
@@ -213,7 +223,8 @@ public class CU40 extends CU {
             check(srcDevice);
             check(srcContext);
         }
-        return callPPPPPI(dstDevice, dstContext, srcDevice, srcContext, ByteCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPPPI(dstDevice, dstContext, srcDevice, srcContext, ByteCount, __functionAddress));
     }
 
     // --- [ cuMemcpy3DPeer ] ---
@@ -223,7 +234,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             CUDA_MEMCPY3D_PEER.validate(pCopy);
         }
-        return callPI(pCopy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPI(pCopy, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -240,7 +252,8 @@ public class CU40 extends CU {
             check(dst);
             check(src);
         }
-        return callPPPPI(dst, src, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPPPI(dst, src, ByteCount, hStream, __functionAddress));
     }
 
     // --- [ cuMemcpyPeerAsync ] ---
@@ -254,7 +267,8 @@ public class CU40 extends CU {
             check(srcDevice);
             check(srcContext);
         }
-        return callPPPPPPI(dstDevice, dstContext, srcDevice, srcContext, ByteCount, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPPPPI(dstDevice, dstContext, srcDevice, srcContext, ByteCount, hStream, __functionAddress));
     }
 
     // --- [ cuMemcpy3DPeerAsync ] ---
@@ -264,7 +278,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             CUDA_MEMCPY3D_PEER.validate(pCopy);
         }
-        return callPPI(pCopy, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPI(pCopy, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -279,7 +294,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(ptr);
         }
-        return callPPI(data, attribute, ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPI(data, attribute, ptr, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -295,7 +311,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(hStream);
         }
-        return callPI(hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPI(hStream, __functionAddress));
     }
 
     // --- [ cuEventDestroy ] ---
@@ -306,7 +323,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(hEvent);
         }
-        return callPI(hEvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPI(hEvent, __functionAddress));
     }
 
     // --- [ cuLaunchKernel ] ---
@@ -316,7 +334,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(f);
         }
-        return callPPPPI(f, gridDimX, gridDimY, gridDimZ, blockDimX, blockDimY, blockDimZ, sharedMemBytes, hStream, kernelParams, extra, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPPPI(f, gridDimX, gridDimY, gridDimZ, blockDimX, blockDimY, blockDimZ, sharedMemBytes, hStream, kernelParams, extra, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -328,7 +347,8 @@ public class CU40 extends CU {
 
     public static int ncuDeviceCanAccessPeer(long canAccessPeer, int dev, int peerDev) {
         long __functionAddress = Functions.DeviceCanAccessPeer;
-        return callPI(canAccessPeer, dev, peerDev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPI(canAccessPeer, dev, peerDev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -347,7 +367,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(peerContext);
         }
-        return callPI(peerContext, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPI(peerContext, Flags, __functionAddress));
     }
 
     // --- [ cuCtxDisablePeerAccess ] ---
@@ -358,7 +379,8 @@ public class CU40 extends CU {
         if (CHECKS) {
             check(peerContext);
         }
-        return callPI(peerContext, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPI(peerContext, __functionAddress));
     }
 
 }
\ No newline at end of file
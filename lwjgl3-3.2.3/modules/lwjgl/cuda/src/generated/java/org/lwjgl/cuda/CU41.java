@@ -31,6 +31,8 @@ public class CU41 extends CU40 {
      */
     public static final int CU_IPC_MEM_LAZY_ENABLE_PEER_ACCESS = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU41.class, "cuDeviceGetByPCIBusId,cuDeviceGetPCIBusId,cuIpcGetEventHandle,cuIpcGetMemHandle,cuIpcCloseMemHandle");
+
     protected CU41() {
         throw new UnsupportedOperationException();
     }
@@ -54,7 +56,8 @@ public class CU41 extends CU40 {
 
     public static int ncuDeviceGetByPCIBusId(long dev, long pciBusId) {
         long __functionAddress = Functions.DeviceGetByPCIBusId;
-        return callPPI(dev, pciBusId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dev, pciBusId, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -85,7 +88,8 @@ public class CU41 extends CU40 {
 
     public static int ncuDeviceGetPCIBusId(long pciBusId, int len, int dev) {
         long __functionAddress = Functions.DeviceGetPCIBusId;
-        return callPI(pciBusId, len, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(pciBusId, len, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -100,7 +104,8 @@ public class CU41 extends CU40 {
         if (CHECKS) {
             check(event);
         }
-        return callPPI(pHandle, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(pHandle, event, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -115,7 +120,8 @@ public class CU41 extends CU40 {
         if (CHECKS) {
             check(dptr);
         }
-        return callPPI(pHandle, dptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(pHandle, dptr, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -131,7 +137,8 @@ public class CU41 extends CU40 {
         if (CHECKS) {
             check(dptr);
         }
-        return callPI(dptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(dptr, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -51,6 +51,8 @@ public class CU42 extends CU41 {
         CU_SHAREDMEM_CARVEOUT_MAX_SHARED = 0x64,
         CU_SHAREDMEM_CARVEOUT_MAX_L1     = 0x0;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU42.class, "cuCtxGetSharedMemConfig,cuCtxSetSharedMemConfig,cuFuncSetSharedMemConfig");
+
     protected CU42() {
         throw new UnsupportedOperationException();
     }
@@ -72,7 +74,8 @@ public class CU42 extends CU41 {
 
     public static int ncuCtxGetSharedMemConfig(long pConfig) {
         long __functionAddress = Functions.CtxGetSharedMemConfig;
-        return callPI(pConfig, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pConfig, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -88,7 +91,8 @@ public class CU42 extends CU41 {
     @NativeType("CUresult")
     public static int cuCtxSetSharedMemConfig(@NativeType("CUsharedconfig") int config) {
         long __functionAddress = Functions.CtxSetSharedMemConfig;
-        return callI(config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(config, __functionAddress));
     }
 
     // --- [ cuFuncSetSharedMemConfig ] ---
@@ -99,7 +103,8 @@ public class CU42 extends CU41 {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(hfunc, config, __functionAddress));
     }
 
 }
\ No newline at end of file
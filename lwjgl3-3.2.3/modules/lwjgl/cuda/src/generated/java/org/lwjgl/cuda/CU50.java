@@ -117,6 +117,8 @@ public class CU50 extends CU42 {
         CU_RES_VIEW_FORMAT_SIGNED_BC6H   = 0x21,
         CU_RES_VIEW_FORMAT_UNSIGNED_BC7  = 0x22;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU50.class, "cuMipmappedArrayCreate,cuMipmappedArrayGetLevel,cuMipmappedArrayDestroy,cuTexObjectCreate,cuTexObjectDestroy,cuTexObjectGetResourceDesc,cuTexObjectGetTextureDesc,cuTexObjectGetResourceViewDesc,cuSurfObjectCreate,cuSurfObjectDestroy,cuSurfObjectGetResourceDesc,cuGraphicsResourceGetMappedMipmappedArray");
+
     protected CU50() {
         throw new UnsupportedOperationException();
     }
@@ -147,7 +149,8 @@ public class CU50 extends CU42 {
 
     public static int ncuMipmappedArrayCreate(long pHandle, long pMipmappedArrayDesc, int numMipmapLevels) {
         long __functionAddress = Functions.MipmappedArrayCreate;
-        return callPPI(pHandle, pMipmappedArrayDesc, numMipmapLevels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pHandle, pMipmappedArrayDesc, numMipmapLevels, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -165,7 +168,8 @@ public class CU50 extends CU42 {
         if (CHECKS) {
             check(hMipmappedArray);
         }
-        return callPPI(pLevelArray, hMipmappedArray, level, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(pLevelArray, hMipmappedArray, level, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -184,14 +188,16 @@ public class CU50 extends CU42 {
         if (CHECKS) {
             check(hMipmappedArray);
         }
-        return callPI(hMipmappedArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(hMipmappedArray, __functionAddress));
     }
 
     // --- [ cuTexObjectCreate ] ---
 
     public static int ncuTexObjectCreate(long pTexObject, long pResDesc, long pTexDesc, long pResViewDesc) {
         long __functionAddress = Functions.TexObjectCreate;
-        return callPPPPI(pTexObject, pResDesc, pTexDesc, pResViewDesc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(pTexObject, pResDesc, pTexDesc, pResViewDesc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -207,14 +213,16 @@ public class CU50 extends CU42 {
     @NativeType("CUresult")
     public static int cuTexObjectDestroy(@NativeType("CUtexObject") long texObject) {
         long __functionAddress = Functions.TexObjectDestroy;
-        return callJI(texObject, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callJI(texObject, __functionAddress));
     }
 
     // --- [ cuTexObjectGetResourceDesc ] ---
 
     public static int ncuTexObjectGetResourceDesc(long pResDesc, long texObject) {
         long __functionAddress = Functions.TexObjectGetResourceDesc;
-        return callPJI(pResDesc, texObject, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPJI(pResDesc, texObject, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -226,7 +234,8 @@ public class CU50 extends CU42 {
 
     public static int ncuTexObjectGetTextureDesc(long pTexDesc, long texObject) {
         long __functionAddress = Functions.TexObjectGetTextureDesc;
-        return callPJI(pTexDesc, texObject, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPJI(pTexDesc, texObject, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -238,7 +247,8 @@ public class CU50 extends CU42 {
 
     public static int ncuTexObjectGetResourceViewDesc(long pResViewDesc, long texObject) {
         long __functionAddress = Functions.TexObjectGetResourceViewDesc;
-        return callPJI(pResViewDesc, texObject, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJI(pResViewDesc, texObject, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -250,7 +260,8 @@ public class CU50 extends CU42 {
 
     public static int ncuSurfObjectCreate(long pSurfObject, long pResDesc) {
         long __functionAddress = Functions.SurfObjectCreate;
-        return callPPI(pSurfObject, pResDesc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(pSurfObject, pResDesc, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -266,14 +277,16 @@ public class CU50 extends CU42 {
     @NativeType("CUresult")
     public static int cuSurfObjectDestroy(@NativeType("CUsurfObject") long surfObject) {
         long __functionAddress = Functions.SurfObjectDestroy;
-        return callJI(surfObject, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callJI(surfObject, __functionAddress));
     }
 
     // --- [ cuSurfObjectGetResourceDesc ] ---
 
     public static int ncuSurfObjectGetResourceDesc(long pResDesc, long surfObject) {
         long __functionAddress = Functions.SurfObjectGetResourceDesc;
-        return callPJI(pResDesc, surfObject, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPJI(pResDesc, surfObject, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -288,7 +301,8 @@ public class CU50 extends CU42 {
         if (CHECKS) {
             check(resource);
         }
-        return callPPI(pMipmappedArray, resource, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPI(pMipmappedArray, resource, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -64,6 +64,8 @@ public class CU55 extends CU50 {
         CU_JIT_INPUT_OBJECT    = 3,
         CU_JIT_INPUT_LIBRARY   = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU55.class, "cuLinkCreate,cuLinkAddData,cuLinkAddFile,cuLinkComplete,cuLinkDestroy");
+
     protected CU55() {
         throw new UnsupportedOperationException();
     }
@@ -87,7 +89,8 @@ public class CU55 extends CU50 {
 
     public static int ncuLinkCreate(int numOptions, long options, long optionValues, long stateOut) {
         long __functionAddress = Functions.LinkCreate;
-        return callPPPI(numOptions, options, optionValues, stateOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(numOptions, options, optionValues, stateOut, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -106,7 +109,8 @@ public class CU55 extends CU50 {
         if (CHECKS) {
             check(state);
         }
-        return callPPPPPPI(state, type, data, size, name, numOptions, options, optionValues, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPPPI(state, type, data, size, name, numOptions, options, optionValues, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -140,7 +144,8 @@ public class CU55 extends CU50 {
         if (CHECKS) {
             check(state);
         }
-        return callPPPPI(state, type, path, numOptions, options, optionValues, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(state, type, path, numOptions, options, optionValues, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -174,7 +179,8 @@ public class CU55 extends CU50 {
         if (CHECKS) {
             check(state);
         }
-        return callPPPI(state, cubinOut, sizeOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(state, cubinOut, sizeOut, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -194,7 +200,8 @@ public class CU55 extends CU50 {
         if (CHECKS) {
             check(state);
         }
-        return callPI(state, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(state, __functionAddress));
     }
 
 }
\ No newline at end of file
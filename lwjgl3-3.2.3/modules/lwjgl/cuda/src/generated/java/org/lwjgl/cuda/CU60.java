@@ -37,6 +37,8 @@ public class CU60 extends CU55 {
         CU_MEM_ATTACH_HOST   = 0x2,
         CU_MEM_ATTACH_SINGLE = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU60.class, "cuMemAllocManaged,cuPointerSetAttribute,cuStreamAttachMemAsync");
+
     protected CU60() {
         throw new UnsupportedOperationException();
     }
@@ -58,7 +60,8 @@ public class CU60 extends CU55 {
 
     public static int ncuMemAllocManaged(long dptr, long bytesize, int flags) {
         long __functionAddress = Functions.MemAllocManaged;
-        return callPPI(dptr, bytesize, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dptr, bytesize, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -76,7 +79,8 @@ public class CU60 extends CU55 {
         if (CHECKS) {
             check(ptr);
         }
-        return callPPI(value, attribute, ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(value, attribute, ptr, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -92,7 +96,8 @@ public class CU60 extends CU55 {
         if (CHECKS) {
             check(dptr);
         }
-        return callPPPI(hStream, dptr, length, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(hStream, dptr, length, flags, __functionAddress));
     }
 
 }
\ No newline at end of file
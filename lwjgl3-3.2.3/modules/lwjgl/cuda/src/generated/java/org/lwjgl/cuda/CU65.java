@@ -33,6 +33,8 @@ public class CU65 extends CU60 {
         CU_OCCUPANCY_DEFAULT                  = 0x0,
         CU_OCCUPANCY_DISABLE_CACHING_OVERRIDE = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU65.class, "cuOccupancyMaxActiveBlocksPerMultiprocessor,cuOccupancyMaxActiveBlocksPerMultiprocessorWithFlags,cuOccupancyMaxPotentialBlockSize,cuOccupancyMaxPotentialBlockSizeWithFlags");
+
     protected CU65() {
         throw new UnsupportedOperationException();
     }
@@ -58,7 +60,8 @@ public class CU65 extends CU60 {
         if (CHECKS) {
             check(func);
         }
-        return callPPPI(numBlocks, func, blockSize, dynamicSMemSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(numBlocks, func, blockSize, dynamicSMemSize, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -76,7 +79,8 @@ public class CU65 extends CU60 {
         if (CHECKS) {
             check(func);
         }
-        return callPPPI(numBlocks, func, blockSize, dynamicSMemSize, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(numBlocks, func, blockSize, dynamicSMemSize, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -94,7 +98,8 @@ public class CU65 extends CU60 {
         if (CHECKS) {
             check(func);
         }
-        return callPPPPPI(minGridSize, blockSize, func, blockSizeToDynamicSMemSize, dynamicSMemSize, blockSizeLimit, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPPI(minGridSize, blockSize, func, blockSizeToDynamicSMemSize, dynamicSMemSize, blockSizeLimit, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -113,7 +118,8 @@ public class CU65 extends CU60 {
         if (CHECKS) {
             check(func);
         }
-        return callPPPPPI(minGridSize, blockSize, func, blockSizeToDynamicSMemSize, dynamicSMemSize, blockSizeLimit, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPPI(minGridSize, blockSize, func, blockSizeToDynamicSMemSize, dynamicSMemSize, blockSizeLimit, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
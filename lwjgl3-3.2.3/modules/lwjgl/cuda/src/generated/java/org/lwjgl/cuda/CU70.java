@@ -33,6 +33,8 @@ public class CU70 extends CU65 {
      */
     public static final long CU_STREAM_PER_THREAD = 0x2L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU70.class, "cuDevicePrimaryCtxRetain,cuDevicePrimaryCtxRelease,cuDevicePrimaryCtxSetFlags,cuDevicePrimaryCtxGetState,cuDevicePrimaryCtxReset,cuCtxGetFlags,cuPointerGetAttributes");
+
     protected CU70() {
         throw new UnsupportedOperationException();
     }
@@ -58,7 +60,8 @@ public class CU70 extends CU65 {
 
     public static int ncuDevicePrimaryCtxRetain(long pctx, int dev) {
         long __functionAddress = Functions.DevicePrimaryCtxRetain;
-        return callPI(pctx, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pctx, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -74,7 +77,8 @@ public class CU70 extends CU65 {
     @NativeType("CUresult")
     public static int cuDevicePrimaryCtxRelease(@NativeType("CUdevice") int dev) {
         long __functionAddress = Functions.DevicePrimaryCtxRelease;
-        return callI(dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(dev, __functionAddress));
     }
 
     // --- [ cuDevicePrimaryCtxSetFlags ] ---
@@ -82,14 +86,16 @@ public class CU70 extends CU65 {
     @NativeType("CUresult")
     public static int cuDevicePrimaryCtxSetFlags(@NativeType("CUdevice") int dev, @NativeType("unsigned int") int flags) {
         long __functionAddress = Functions.DevicePrimaryCtxSetFlags;
-        return callI(dev, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callI(dev, flags, __functionAddress));
     }
 
     // --- [ cuDevicePrimaryCtxGetState ] ---
 
     public static int ncuDevicePrimaryCtxGetState(int dev, long flags, long active) {
         long __functionAddress = Functions.DevicePrimaryCtxGetState;
-        return callPPI(dev, flags, active, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(dev, flags, active, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -106,14 +112,16 @@ public class CU70 extends CU65 {
     @NativeType("CUresult")
     public static int cuDevicePrimaryCtxReset(@NativeType("CUdevice") int dev) {
         long __functionAddress = Functions.DevicePrimaryCtxReset;
-        return callI(dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callI(dev, __functionAddress));
     }
 
     // --- [ cuCtxGetFlags ] ---
 
     public static int ncuCtxGetFlags(long flags) {
         long __functionAddress = Functions.CtxGetFlags;
-        return callPI(flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -131,7 +139,8 @@ public class CU70 extends CU65 {
         if (CHECKS) {
             check(ptr);
         }
-        return callPPPI(numAttributes, attributes, data, ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(numAttributes, attributes, data, ptr, __functionAddress));
     }
 
     @NativeType("CUresult")
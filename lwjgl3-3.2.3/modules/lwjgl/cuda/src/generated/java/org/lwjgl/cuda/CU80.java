@@ -160,6 +160,8 @@ public class CU80 extends CU70 {
         CU_DEVICE_P2P_ATTRIBUTE_ACCESS_ACCESS_SUPPORTED     = 0x4,
         CU_DEVICE_P2P_ATTRIBUTE_CUDA_ARRAY_ACCESS_SUPPORTED = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU80.class, "cuMemPrefetchAsync,cuMemAdvise,cuMemRangeGetAttribute,cuMemRangeGetAttributes,cuStreamWaitValue32,cuStreamWaitValue64,cuStreamWriteValue32,cuStreamWriteValue64,cuStreamBatchMemOp,cuDeviceGetP2PAttribute");
+
     protected CU80() {
         throw new UnsupportedOperationException();
     }
@@ -192,7 +194,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(devPtr);
         }
-        return callPPPI(devPtr, count, dstDevice, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(devPtr, count, dstDevice, hStream, __functionAddress));
     }
 
     // --- [ cuMemAdvise ] ---
@@ -203,7 +206,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(devPtr);
         }
-        return callPPI(devPtr, count, advice, device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(devPtr, count, advice, device, __functionAddress));
     }
 
     // --- [ cuMemRangeGetAttribute ] ---
@@ -213,7 +217,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(devPtr);
         }
-        return callPPPPI(data, dataSize, attribute, devPtr, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(data, dataSize, attribute, devPtr, count, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -228,7 +233,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(devPtr);
         }
-        return callPPPPPPI(data, dataSizes, attributes, numAttributes, devPtr, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPPPI(data, dataSizes, attributes, numAttributes, devPtr, count, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -248,7 +254,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(addr);
         }
-        return callPPI(stream, addr, value, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(stream, addr, value, flags, __functionAddress));
     }
 
     // --- [ cuStreamWaitValue64 ] ---
@@ -259,7 +266,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(addr);
         }
-        return callPPJI(stream, addr, value, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPJI(stream, addr, value, flags, __functionAddress));
     }
 
     // --- [ cuStreamWriteValue32 ] ---
@@ -270,7 +278,8 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(addr);
         }
-        return callPPI(stream, addr, value, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPI(stream, addr, value, flags, __functionAddress));
     }
 
     // --- [ cuStreamWriteValue64 ] ---
@@ -281,14 +290,16 @@ public class CU80 extends CU70 {
         if (CHECKS) {
             check(addr);
         }
-        return callPPJI(stream, addr, value, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPJI(stream, addr, value, flags, __functionAddress));
     }
 
     // --- [ cuStreamBatchMemOp ] ---
 
     public static int ncuStreamBatchMemOp(long stream, int count, long paramArray, int flags) {
         long __functionAddress = Functions.StreamBatchMemOp;
-        return callPPI(stream, count, paramArray, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(stream, count, paramArray, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -300,7 +311,8 @@ public class CU80 extends CU70 {
 
     public static int ncuDeviceGetP2PAttribute(long value, int attrib, int srcDevice, int dstDevice) {
         long __functionAddress = Functions.DeviceGetP2PAttribute;
-        return callPI(value, attrib, srcDevice, dstDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPI(value, attrib, srcDevice, dstDevice, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -39,6 +39,8 @@ public class CU90 extends CU80 {
         CU_CUDA_COOPERATIVE_LAUNCH_MULTI_DEVICE_NO_PRE_LAUNCH_SYNC  = 0x1,
         CU_CUDA_COOPERATIVE_LAUNCH_MULTI_DEVICE_NO_POST_LAUNCH_SYNC = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU90.class, "cuFuncSetAttribute,cuLaunchCooperativeKernel,cuLaunchCooperativeKernelMultiDevice");
+
     protected CU90() {
         throw new UnsupportedOperationException();
     }
@@ -64,7 +66,8 @@ public class CU90 extends CU80 {
         if (CHECKS) {
             check(hfunc);
         }
-        return callPI(hfunc, attrib, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(hfunc, attrib, value, __functionAddress));
     }
 
     // --- [ cuLaunchCooperativeKernel ] ---
@@ -74,7 +77,8 @@ public class CU90 extends CU80 {
         if (CHECKS) {
             check(f);
         }
-        return callPPPI(f, gridDimX, gridDimY, gridDimZ, blockDimX, blockDimY, blockDimZ, sharedMemBytes, hStream, kernelParams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(f, gridDimX, gridDimY, gridDimZ, blockDimX, blockDimY, blockDimZ, sharedMemBytes, hStream, kernelParams, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -89,7 +93,8 @@ public class CU90 extends CU80 {
         if (CHECKS) {
             CUDA_LAUNCH_PARAMS.validate(launchParamsList, numDevices);
         }
-        return callPI(launchParamsList, numDevices, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(launchParamsList, numDevices, flags, __functionAddress));
     }
 
     @NativeType("CUresult")
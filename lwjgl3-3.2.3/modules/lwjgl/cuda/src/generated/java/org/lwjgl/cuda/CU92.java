@@ -19,6 +19,8 @@ import static org.lwjgl.cuda.CUDA.*;
 /** Contains bindings to <a href="https://docs.nvidia.com/cuda/cuda-driver-api/index.html">CUDA Driver API</a>. */
 public class CU92 extends CU90 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CU92.class, "cuDeviceGetUuid,cuStreamGetCtx");
+
     protected CU92() {
         throw new UnsupportedOperationException();
     }
@@ -39,7 +41,8 @@ public class CU92 extends CU90 {
 
     public static int ncuDeviceGetUuid(long uuid, int dev) {
         long __functionAddress = Functions.DeviceGetUuid;
-        return callPI(uuid, dev, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(uuid, dev, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -54,7 +57,8 @@ public class CU92 extends CU90 {
         if (CHECKS) {
             check(hStream);
         }
-        return callPPI(hStream, pctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(hStream, pctx, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -32,6 +32,8 @@ public class CUDAProfiler {
         CU_OUT_KEY_VALUE_PAIR = 0x0,
         CU_OUT_CSV            = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CUDAProfiler.class, "cuProfilerInitialize,cuProfilerStart,cuProfilerStop");
+
     protected CUDAProfiler() {
         throw new UnsupportedOperationException();
     }
@@ -54,7 +56,8 @@ public class CUDAProfiler {
     /** Unsafe version of: {@link #cuProfilerInitialize ProfilerInitialize} */
     public static int ncuProfilerInitialize(long configFile, long outputFile, int outputMode) {
         long __functionAddress = Functions.ProfilerInitialize;
-        return callPPI(configFile, outputFile, outputMode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(configFile, outputFile, outputMode, __functionAddress));
     }
 
     /**
@@ -156,7 +159,8 @@ public class CUDAProfiler {
     @NativeType("CUresult")
     public static int cuProfilerStart() {
         long __functionAddress = Functions.ProfilerStart;
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(__functionAddress));
     }
 
     // --- [ cuProfilerStop ] ---
@@ -173,7 +177,8 @@ public class CUDAProfiler {
     @NativeType("CUresult")
     public static int cuProfilerStop() {
         long __functionAddress = Functions.ProfilerStop;
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callI(__functionAddress));
     }
 
 }
\ No newline at end of file
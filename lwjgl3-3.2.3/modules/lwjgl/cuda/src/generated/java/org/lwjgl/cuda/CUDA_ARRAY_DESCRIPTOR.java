@@ -234,6 +234,24 @@ public class CUDA_ARRAY_DESCRIPTOR extends Struct implements NativeResource {
         return wrap(CUDA_ARRAY_DESCRIPTOR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_ARRAY_DESCRIPTOR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_ARRAY_DESCRIPTOR malloc(MemoryArena arena) {
+        return wrap(CUDA_ARRAY_DESCRIPTOR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_ARRAY_DESCRIPTOR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_ARRAY_DESCRIPTOR calloc(MemoryArena arena) {
+        return wrap(CUDA_ARRAY_DESCRIPTOR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_ARRAY_DESCRIPTOR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class CUDA_ARRAY_DESCRIPTOR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_ARRAY_DESCRIPTOR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_ARRAY_DESCRIPTOR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_ARRAY_DESCRIPTOR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_ARRAY_DESCRIPTOR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Width}. */
@@ -352,6 +390,24 @@ public class CUDA_ARRAY_DESCRIPTOR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code NumChannels} field. */
         public CUDA_ARRAY_DESCRIPTOR.Buffer NumChannels(@NativeType("unsigned int") int value) { CUDA_ARRAY_DESCRIPTOR.nNumChannels(address(), value); return this; }
 
+        /** Copies the {@code Format} field of the structs between the current position and limit to the specified array. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer getFormat(int[] dst) { gather(CUDA_ARRAY_DESCRIPTOR.FORMAT, dst); return this; }
+        /** Copies the {@code Format} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer getFormat(IntBuffer dst) { gather(CUDA_ARRAY_DESCRIPTOR.FORMAT, dst); return this; }
+        /** Copies the {@code NumChannels} field of the structs between the current position and limit to the specified array. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer getNumChannels(int[] dst) { gather(CUDA_ARRAY_DESCRIPTOR.NUMCHANNELS, dst); return this; }
+        /** Copies the {@code NumChannels} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer getNumChannels(IntBuffer dst) { gather(CUDA_ARRAY_DESCRIPTOR.NUMCHANNELS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code Format} field of the structs between the current position and limit. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer putFormat(int[] src) { scatter(CUDA_ARRAY_DESCRIPTOR.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Format} field of the structs between the current position and limit. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer putFormat(IntBuffer src) { scatter(CUDA_ARRAY_DESCRIPTOR.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code NumChannels} field of the structs between the current position and limit. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer putNumChannels(int[] src) { scatter(CUDA_ARRAY_DESCRIPTOR.NUMCHANNELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code NumChannels} field of the structs between the current position and limit. */
+        public CUDA_ARRAY_DESCRIPTOR.Buffer putNumChannels(IntBuffer src) { scatter(CUDA_ARRAY_DESCRIPTOR.NUMCHANNELS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -279,6 +279,24 @@ public class CUDA_EXTERNAL_MEMORY_HANDLE_DESC extends Struct implements NativeRe
         return wrap(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_EXTERNAL_MEMORY_HANDLE_DESC} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_HANDLE_DESC malloc(MemoryArena arena) {
+        return wrap(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_EXTERNAL_MEMORY_HANDLE_DESC} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_HANDLE_DESC calloc(MemoryArena arena) {
+        return wrap(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -317,6 +335,26 @@ public class CUDA_EXTERNAL_MEMORY_HANDLE_DESC extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -439,6 +477,32 @@ public class CUDA_EXTERNAL_MEMORY_HANDLE_DESC extends Struct implements NativeRe
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer reserved(int index, @NativeType("unsigned int") int value) { CUDA_EXTERNAL_MEMORY_HANDLE_DESC.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer getType(int[] dst) { gather(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer getType(IntBuffer dst) { gather(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.TYPE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer getSize(long[] dst) { gather(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer getSize(LongBuffer dst) { gather(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.SIZE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer getFlags(int[] dst) { gather(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer getFlags(IntBuffer dst) { gather(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer putType(int[] src) { scatter(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer putType(IntBuffer src) { scatter(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer putSize(long[] src) { scatter(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer putSize(LongBuffer src) { scatter(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer putFlags(int[] src) { scatter(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_HANDLE_DESC.Buffer putFlags(IntBuffer src) { scatter(CUDA_EXTERNAL_MEMORY_HANDLE_DESC.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
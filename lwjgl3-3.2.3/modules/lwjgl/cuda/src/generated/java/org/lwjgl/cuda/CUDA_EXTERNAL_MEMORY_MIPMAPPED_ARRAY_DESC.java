@@ -240,6 +240,24 @@ public class CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC extends Struct implements
         return wrap(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC malloc(MemoryArena arena) {
+        return wrap(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC calloc(MemoryArena arena) {
+        return wrap(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #offset}. */
@@ -375,6 +413,24 @@ public class CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC extends Struct implements
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer reserved(int index, @NativeType("unsigned int") int value) { CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer getOffset(long[] dst) { gather(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer getOffset(LongBuffer dst) { gather(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.OFFSET, dst); return this; }
+        /** Copies the {@code numLevels} field of the structs between the current position and limit to the specified array. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer getNumLevels(int[] dst) { gather(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.NUMLEVELS, dst); return this; }
+        /** Copies the {@code numLevels} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer getNumLevels(IntBuffer dst) { gather(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.NUMLEVELS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer putOffset(long[] src) { scatter(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer putOffset(LongBuffer src) { scatter(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code numLevels} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer putNumLevels(int[] src) { scatter(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.NUMLEVELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code numLevels} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.Buffer putNumLevels(IntBuffer src) { scatter(CUDA_EXTERNAL_MEMORY_MIPMAPPED_ARRAY_DESC.NUMLEVELS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -259,6 +259,24 @@ public class CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS extends Struct implements Nativ
         return wrap(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS malloc(MemoryArena arena) {
+        return wrap(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS calloc(MemoryArena arena) {
+        return wrap(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #params_fence_value}. */
@@ -409,6 +447,16 @@ public class CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS extends Struct implements Nativ
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer reserved(int index, @NativeType("unsigned int") int value) { CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer getFlags(int[] dst) { gather(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer getFlags(IntBuffer dst) { gather(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer putFlags(int[] src) { scatter(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.Buffer putFlags(IntBuffer src) { scatter(CUDA_EXTERNAL_SEMAPHORE_WAIT_PARAMS.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
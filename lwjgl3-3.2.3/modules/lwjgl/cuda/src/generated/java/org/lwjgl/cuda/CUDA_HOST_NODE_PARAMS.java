@@ -211,6 +211,24 @@ public class CUDA_HOST_NODE_PARAMS extends Struct implements NativeResource {
         return wrap(CUDA_HOST_NODE_PARAMS.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_HOST_NODE_PARAMS} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_HOST_NODE_PARAMS malloc(MemoryArena arena) {
+        return wrap(CUDA_HOST_NODE_PARAMS.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_HOST_NODE_PARAMS} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_HOST_NODE_PARAMS calloc(MemoryArena arena) {
+        return wrap(CUDA_HOST_NODE_PARAMS.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_HOST_NODE_PARAMS.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -249,6 +267,26 @@ public class CUDA_HOST_NODE_PARAMS extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_HOST_NODE_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_HOST_NODE_PARAMS.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_HOST_NODE_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_HOST_NODE_PARAMS.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #fn}. */
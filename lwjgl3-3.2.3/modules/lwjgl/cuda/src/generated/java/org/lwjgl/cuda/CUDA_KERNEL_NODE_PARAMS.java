@@ -315,6 +315,24 @@ public class CUDA_KERNEL_NODE_PARAMS extends Struct implements NativeResource {
         return wrap(CUDA_KERNEL_NODE_PARAMS.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_KERNEL_NODE_PARAMS} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_KERNEL_NODE_PARAMS malloc(MemoryArena arena) {
+        return wrap(CUDA_KERNEL_NODE_PARAMS.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_KERNEL_NODE_PARAMS} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_KERNEL_NODE_PARAMS calloc(MemoryArena arena) {
+        return wrap(CUDA_KERNEL_NODE_PARAMS.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_KERNEL_NODE_PARAMS.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -353,6 +371,26 @@ public class CUDA_KERNEL_NODE_PARAMS extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_KERNEL_NODE_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_KERNEL_NODE_PARAMS.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_KERNEL_NODE_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_KERNEL_NODE_PARAMS.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #func}. */
@@ -518,6 +556,64 @@ public class CUDA_KERNEL_NODE_PARAMS extends Struct implements NativeResource {
         /** Sets the address of the specified {@link PointerBuffer} to the {@code extra} field. */
         public CUDA_KERNEL_NODE_PARAMS.Buffer extra(@NativeType("void **") PointerBuffer value) { CUDA_KERNEL_NODE_PARAMS.nextra(address(), value); return this; }
 
+        /** Copies the {@code gridDimX} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getGridDimX(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.GRIDDIMX, dst); return this; }
+        /** Copies the {@code gridDimX} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getGridDimX(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.GRIDDIMX, dst); return this; }
+        /** Copies the {@code gridDimY} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getGridDimY(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.GRIDDIMY, dst); return this; }
+        /** Copies the {@code gridDimY} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getGridDimY(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.GRIDDIMY, dst); return this; }
+        /** Copies the {@code gridDimZ} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getGridDimZ(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.GRIDDIMZ, dst); return this; }
+        /** Copies the {@code gridDimZ} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getGridDimZ(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.GRIDDIMZ, dst); return this; }
+        /** Copies the {@code blockDimX} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getBlockDimX(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMX, dst); return this; }
+        /** Copies the {@code blockDimX} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getBlockDimX(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMX, dst); return this; }
+        /** Copies the {@code blockDimY} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getBlockDimY(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMY, dst); return this; }
+        /** Copies the {@code blockDimY} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getBlockDimY(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMY, dst); return this; }
+        /** Copies the {@code blockDimZ} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getBlockDimZ(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMZ, dst); return this; }
+        /** Copies the {@code blockDimZ} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getBlockDimZ(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMZ, dst); return this; }
+        /** Copies the {@code sharedMemBytes} field of the structs between the current position and limit to the specified array. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getSharedMemBytes(int[] dst) { gather(CUDA_KERNEL_NODE_PARAMS.SHAREDMEMBYTES, dst); return this; }
+        /** Copies the {@code sharedMemBytes} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer getSharedMemBytes(IntBuffer dst) { gather(CUDA_KERNEL_NODE_PARAMS.SHAREDMEMBYTES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code gridDimX} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putGridDimX(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.GRIDDIMX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code gridDimX} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putGridDimX(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.GRIDDIMX, src); return this; }
+        /** Copies the values in the specified array to the {@code gridDimY} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putGridDimY(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.GRIDDIMY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code gridDimY} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putGridDimY(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.GRIDDIMY, src); return this; }
+        /** Copies the values in the specified array to the {@code gridDimZ} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putGridDimZ(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.GRIDDIMZ, src); return this; }
+        /** Copies the values in the specified buffer to the {@code gridDimZ} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putGridDimZ(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.GRIDDIMZ, src); return this; }
+        /** Copies the values in the specified array to the {@code blockDimX} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putBlockDimX(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockDimX} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putBlockDimX(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMX, src); return this; }
+        /** Copies the values in the specified array to the {@code blockDimY} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putBlockDimY(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockDimY} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putBlockDimY(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMY, src); return this; }
+        /** Copies the values in the specified array to the {@code blockDimZ} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putBlockDimZ(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMZ, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockDimZ} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putBlockDimZ(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.BLOCKDIMZ, src); return this; }
+        /** Copies the values in the specified array to the {@code sharedMemBytes} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putSharedMemBytes(int[] src) { scatter(CUDA_KERNEL_NODE_PARAMS.SHAREDMEMBYTES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sharedMemBytes} field of the structs between the current position and limit. */
+        public CUDA_KERNEL_NODE_PARAMS.Buffer putSharedMemBytes(IntBuffer src) { scatter(CUDA_KERNEL_NODE_PARAMS.SHAREDMEMBYTES, src); return this; }
+
     }
 
 }
\ No newline at end of file
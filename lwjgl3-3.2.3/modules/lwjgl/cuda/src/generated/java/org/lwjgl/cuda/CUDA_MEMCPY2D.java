@@ -387,6 +387,24 @@ public class CUDA_MEMCPY2D extends Struct implements NativeResource {
         return wrap(CUDA_MEMCPY2D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_MEMCPY2D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMCPY2D malloc(MemoryArena arena) {
+        return wrap(CUDA_MEMCPY2D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_MEMCPY2D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMCPY2D calloc(MemoryArena arena) {
+        return wrap(CUDA_MEMCPY2D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_MEMCPY2D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -425,6 +443,26 @@ public class CUDA_MEMCPY2D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_MEMCPY2D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMCPY2D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_MEMCPY2D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMCPY2D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #srcXInBytes}. */
@@ -647,6 +685,24 @@ public class CUDA_MEMCPY2D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code Height} field. */
         public CUDA_MEMCPY2D.Buffer Height(@NativeType("size_t") long value) { CUDA_MEMCPY2D.nHeight(address(), value); return this; }
 
+        /** Copies the {@code srcMemoryType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMCPY2D.Buffer getSrcMemoryType(int[] dst) { gather(CUDA_MEMCPY2D.SRCMEMORYTYPE, dst); return this; }
+        /** Copies the {@code srcMemoryType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMCPY2D.Buffer getSrcMemoryType(IntBuffer dst) { gather(CUDA_MEMCPY2D.SRCMEMORYTYPE, dst); return this; }
+        /** Copies the {@code dstMemoryType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMCPY2D.Buffer getDstMemoryType(int[] dst) { gather(CUDA_MEMCPY2D.DSTMEMORYTYPE, dst); return this; }
+        /** Copies the {@code dstMemoryType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMCPY2D.Buffer getDstMemoryType(IntBuffer dst) { gather(CUDA_MEMCPY2D.DSTMEMORYTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code srcMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY2D.Buffer putSrcMemoryType(int[] src) { scatter(CUDA_MEMCPY2D.SRCMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY2D.Buffer putSrcMemoryType(IntBuffer src) { scatter(CUDA_MEMCPY2D.SRCMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dstMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY2D.Buffer putDstMemoryType(int[] src) { scatter(CUDA_MEMCPY2D.DSTMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY2D.Buffer putDstMemoryType(IntBuffer src) { scatter(CUDA_MEMCPY2D.DSTMEMORYTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -503,6 +503,24 @@ public class CUDA_MEMCPY3D extends Struct implements NativeResource {
         return wrap(CUDA_MEMCPY3D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_MEMCPY3D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D malloc(MemoryArena arena) {
+        return wrap(CUDA_MEMCPY3D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_MEMCPY3D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D calloc(MemoryArena arena) {
+        return wrap(CUDA_MEMCPY3D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_MEMCPY3D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -541,6 +559,26 @@ public class CUDA_MEMCPY3D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_MEMCPY3D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_MEMCPY3D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #srcXInBytes}. */
@@ -854,6 +892,24 @@ public class CUDA_MEMCPY3D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code Depth} field. */
         public CUDA_MEMCPY3D.Buffer Depth(@NativeType("size_t") long value) { CUDA_MEMCPY3D.nDepth(address(), value); return this; }
 
+        /** Copies the {@code srcMemoryType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMCPY3D.Buffer getSrcMemoryType(int[] dst) { gather(CUDA_MEMCPY3D.SRCMEMORYTYPE, dst); return this; }
+        /** Copies the {@code srcMemoryType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMCPY3D.Buffer getSrcMemoryType(IntBuffer dst) { gather(CUDA_MEMCPY3D.SRCMEMORYTYPE, dst); return this; }
+        /** Copies the {@code dstMemoryType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMCPY3D.Buffer getDstMemoryType(int[] dst) { gather(CUDA_MEMCPY3D.DSTMEMORYTYPE, dst); return this; }
+        /** Copies the {@code dstMemoryType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMCPY3D.Buffer getDstMemoryType(IntBuffer dst) { gather(CUDA_MEMCPY3D.DSTMEMORYTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code srcMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D.Buffer putSrcMemoryType(int[] src) { scatter(CUDA_MEMCPY3D.SRCMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D.Buffer putSrcMemoryType(IntBuffer src) { scatter(CUDA_MEMCPY3D.SRCMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dstMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D.Buffer putDstMemoryType(int[] src) { scatter(CUDA_MEMCPY3D.DSTMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D.Buffer putDstMemoryType(IntBuffer src) { scatter(CUDA_MEMCPY3D.DSTMEMORYTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
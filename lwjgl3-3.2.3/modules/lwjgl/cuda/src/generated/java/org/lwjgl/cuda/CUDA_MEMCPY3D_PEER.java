@@ -495,6 +495,24 @@ public class CUDA_MEMCPY3D_PEER extends Struct implements NativeResource {
         return wrap(CUDA_MEMCPY3D_PEER.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_MEMCPY3D_PEER} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D_PEER malloc(MemoryArena arena) {
+        return wrap(CUDA_MEMCPY3D_PEER.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_MEMCPY3D_PEER} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D_PEER calloc(MemoryArena arena) {
+        return wrap(CUDA_MEMCPY3D_PEER.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_MEMCPY3D_PEER.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -533,6 +551,26 @@ public class CUDA_MEMCPY3D_PEER extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_MEMCPY3D_PEER.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D_PEER.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_MEMCPY3D_PEER.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMCPY3D_PEER.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #srcXInBytes}. */
@@ -838,6 +876,24 @@ public class CUDA_MEMCPY3D_PEER extends Struct implements NativeResource {
         /** Sets the specified value to the {@code Depth} field. */
         public CUDA_MEMCPY3D_PEER.Buffer Depth(@NativeType("size_t") long value) { CUDA_MEMCPY3D_PEER.nDepth(address(), value); return this; }
 
+        /** Copies the {@code srcMemoryType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMCPY3D_PEER.Buffer getSrcMemoryType(int[] dst) { gather(CUDA_MEMCPY3D_PEER.SRCMEMORYTYPE, dst); return this; }
+        /** Copies the {@code srcMemoryType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMCPY3D_PEER.Buffer getSrcMemoryType(IntBuffer dst) { gather(CUDA_MEMCPY3D_PEER.SRCMEMORYTYPE, dst); return this; }
+        /** Copies the {@code dstMemoryType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMCPY3D_PEER.Buffer getDstMemoryType(int[] dst) { gather(CUDA_MEMCPY3D_PEER.DSTMEMORYTYPE, dst); return this; }
+        /** Copies the {@code dstMemoryType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMCPY3D_PEER.Buffer getDstMemoryType(IntBuffer dst) { gather(CUDA_MEMCPY3D_PEER.DSTMEMORYTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code srcMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D_PEER.Buffer putSrcMemoryType(int[] src) { scatter(CUDA_MEMCPY3D_PEER.SRCMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D_PEER.Buffer putSrcMemoryType(IntBuffer src) { scatter(CUDA_MEMCPY3D_PEER.SRCMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dstMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D_PEER.Buffer putDstMemoryType(int[] src) { scatter(CUDA_MEMCPY3D_PEER.DSTMEMORYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstMemoryType} field of the structs between the current position and limit. */
+        public CUDA_MEMCPY3D_PEER.Buffer putDstMemoryType(IntBuffer src) { scatter(CUDA_MEMCPY3D_PEER.DSTMEMORYTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -259,6 +259,24 @@ public class CUDA_MEMSET_NODE_PARAMS extends Struct implements NativeResource {
         return wrap(CUDA_MEMSET_NODE_PARAMS.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_MEMSET_NODE_PARAMS} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMSET_NODE_PARAMS malloc(MemoryArena arena) {
+        return wrap(CUDA_MEMSET_NODE_PARAMS.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_MEMSET_NODE_PARAMS} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_MEMSET_NODE_PARAMS calloc(MemoryArena arena) {
+        return wrap(CUDA_MEMSET_NODE_PARAMS.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_MEMSET_NODE_PARAMS.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class CUDA_MEMSET_NODE_PARAMS extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_MEMSET_NODE_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMSET_NODE_PARAMS.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_MEMSET_NODE_PARAMS.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_MEMSET_NODE_PARAMS.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #dst}. */
@@ -416,6 +454,24 @@ public class CUDA_MEMSET_NODE_PARAMS extends Struct implements NativeResource {
         /** Sets the specified value to the {@code height} field. */
         public CUDA_MEMSET_NODE_PARAMS.Buffer height(@NativeType("size_t") long value) { CUDA_MEMSET_NODE_PARAMS.nheight(address(), value); return this; }
 
+        /** Copies the {@code value} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer getValue(int[] dst) { gather(CUDA_MEMSET_NODE_PARAMS.VALUE, dst); return this; }
+        /** Copies the {@code value} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer getValue(IntBuffer dst) { gather(CUDA_MEMSET_NODE_PARAMS.VALUE, dst); return this; }
+        /** Copies the {@code elementSize} field of the structs between the current position and limit to the specified array. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer getElementSize(int[] dst) { gather(CUDA_MEMSET_NODE_PARAMS.ELEMENTSIZE, dst); return this; }
+        /** Copies the {@code elementSize} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer getElementSize(IntBuffer dst) { gather(CUDA_MEMSET_NODE_PARAMS.ELEMENTSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code value} field of the structs between the current position and limit. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer putValue(int[] src) { scatter(CUDA_MEMSET_NODE_PARAMS.VALUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code value} field of the structs between the current position and limit. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer putValue(IntBuffer src) { scatter(CUDA_MEMSET_NODE_PARAMS.VALUE, src); return this; }
+        /** Copies the values in the specified array to the {@code elementSize} field of the structs between the current position and limit. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer putElementSize(int[] src) { scatter(CUDA_MEMSET_NODE_PARAMS.ELEMENTSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code elementSize} field of the structs between the current position and limit. */
+        public CUDA_MEMSET_NODE_PARAMS.Buffer putElementSize(IntBuffer src) { scatter(CUDA_MEMSET_NODE_PARAMS.ELEMENTSIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -389,6 +389,24 @@ public class CUDA_RESOURCE_DESC extends Struct implements NativeResource {
         return wrap(CUDA_RESOURCE_DESC.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_RESOURCE_DESC} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_DESC malloc(MemoryArena arena) {
+        return wrap(CUDA_RESOURCE_DESC.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_RESOURCE_DESC} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_DESC calloc(MemoryArena arena) {
+        return wrap(CUDA_RESOURCE_DESC.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_RESOURCE_DESC.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -427,6 +445,26 @@ public class CUDA_RESOURCE_DESC extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_RESOURCE_DESC.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_DESC.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_RESOURCE_DESC.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_DESC.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #resType}. */
@@ -621,6 +659,24 @@ public class CUDA_RESOURCE_DESC extends Struct implements NativeResource {
         /** Sets the specified value to the {@code flags} field. */
         public CUDA_RESOURCE_DESC.Buffer flags(@NativeType("unsigned int") int value) { CUDA_RESOURCE_DESC.nflags(address(), value); return this; }
 
+        /** Copies the {@code resType} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_DESC.Buffer getResType(int[] dst) { gather(CUDA_RESOURCE_DESC.RESTYPE, dst); return this; }
+        /** Copies the {@code resType} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_DESC.Buffer getResType(IntBuffer dst) { gather(CUDA_RESOURCE_DESC.RESTYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_DESC.Buffer getFlags(int[] dst) { gather(CUDA_RESOURCE_DESC.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_DESC.Buffer getFlags(IntBuffer dst) { gather(CUDA_RESOURCE_DESC.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code resType} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_DESC.Buffer putResType(int[] src) { scatter(CUDA_RESOURCE_DESC.RESTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code resType} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_DESC.Buffer putResType(IntBuffer src) { scatter(CUDA_RESOURCE_DESC.RESTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_DESC.Buffer putFlags(int[] src) { scatter(CUDA_RESOURCE_DESC.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_DESC.Buffer putFlags(IntBuffer src) { scatter(CUDA_RESOURCE_DESC.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -299,6 +299,24 @@ public class CUDA_RESOURCE_VIEW_DESC extends Struct implements NativeResource {
         return wrap(CUDA_RESOURCE_VIEW_DESC.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_RESOURCE_VIEW_DESC} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_VIEW_DESC malloc(MemoryArena arena) {
+        return wrap(CUDA_RESOURCE_VIEW_DESC.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_RESOURCE_VIEW_DESC} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_VIEW_DESC calloc(MemoryArena arena) {
+        return wrap(CUDA_RESOURCE_VIEW_DESC.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_RESOURCE_VIEW_DESC.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -337,6 +355,26 @@ public class CUDA_RESOURCE_VIEW_DESC extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_RESOURCE_VIEW_DESC.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_VIEW_DESC.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_RESOURCE_VIEW_DESC.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_RESOURCE_VIEW_DESC.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #format}. */
@@ -478,6 +516,48 @@ public class CUDA_RESOURCE_VIEW_DESC extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public CUDA_RESOURCE_VIEW_DESC.Buffer reserved(int index, @NativeType("unsigned int") int value) { CUDA_RESOURCE_VIEW_DESC.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getFormat(int[] dst) { gather(CUDA_RESOURCE_VIEW_DESC.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getFormat(IntBuffer dst) { gather(CUDA_RESOURCE_VIEW_DESC.FORMAT, dst); return this; }
+        /** Copies the {@code firstMipmapLevel} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getFirstMipmapLevel(int[] dst) { gather(CUDA_RESOURCE_VIEW_DESC.FIRSTMIPMAPLEVEL, dst); return this; }
+        /** Copies the {@code firstMipmapLevel} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getFirstMipmapLevel(IntBuffer dst) { gather(CUDA_RESOURCE_VIEW_DESC.FIRSTMIPMAPLEVEL, dst); return this; }
+        /** Copies the {@code lastMipmapLevel} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getLastMipmapLevel(int[] dst) { gather(CUDA_RESOURCE_VIEW_DESC.LASTMIPMAPLEVEL, dst); return this; }
+        /** Copies the {@code lastMipmapLevel} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getLastMipmapLevel(IntBuffer dst) { gather(CUDA_RESOURCE_VIEW_DESC.LASTMIPMAPLEVEL, dst); return this; }
+        /** Copies the {@code firstLayer} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getFirstLayer(int[] dst) { gather(CUDA_RESOURCE_VIEW_DESC.FIRSTLAYER, dst); return this; }
+        /** Copies the {@code firstLayer} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getFirstLayer(IntBuffer dst) { gather(CUDA_RESOURCE_VIEW_DESC.FIRSTLAYER, dst); return this; }
+        /** Copies the {@code lastLayer} field of the structs between the current position and limit to the specified array. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getLastLayer(int[] dst) { gather(CUDA_RESOURCE_VIEW_DESC.LASTLAYER, dst); return this; }
+        /** Copies the {@code lastLayer} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer getLastLayer(IntBuffer dst) { gather(CUDA_RESOURCE_VIEW_DESC.LASTLAYER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putFormat(int[] src) { scatter(CUDA_RESOURCE_VIEW_DESC.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putFormat(IntBuffer src) { scatter(CUDA_RESOURCE_VIEW_DESC.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code firstMipmapLevel} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putFirstMipmapLevel(int[] src) { scatter(CUDA_RESOURCE_VIEW_DESC.FIRSTMIPMAPLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstMipmapLevel} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putFirstMipmapLevel(IntBuffer src) { scatter(CUDA_RESOURCE_VIEW_DESC.FIRSTMIPMAPLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code lastMipmapLevel} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putLastMipmapLevel(int[] src) { scatter(CUDA_RESOURCE_VIEW_DESC.LASTMIPMAPLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lastMipmapLevel} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putLastMipmapLevel(IntBuffer src) { scatter(CUDA_RESOURCE_VIEW_DESC.LASTMIPMAPLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code firstLayer} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putFirstLayer(int[] src) { scatter(CUDA_RESOURCE_VIEW_DESC.FIRSTLAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstLayer} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putFirstLayer(IntBuffer src) { scatter(CUDA_RESOURCE_VIEW_DESC.FIRSTLAYER, src); return this; }
+        /** Copies the values in the specified array to the {@code lastLayer} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putLastLayer(int[] src) { scatter(CUDA_RESOURCE_VIEW_DESC.LASTLAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lastLayer} field of the structs between the current position and limit. */
+        public CUDA_RESOURCE_VIEW_DESC.Buffer putLastLayer(IntBuffer src) { scatter(CUDA_RESOURCE_VIEW_DESC.LASTLAYER, src); return this; }
+
     }
 
 }
\ No newline at end of file
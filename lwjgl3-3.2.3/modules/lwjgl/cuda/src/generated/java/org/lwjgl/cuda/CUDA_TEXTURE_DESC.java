@@ -316,6 +316,24 @@ public class CUDA_TEXTURE_DESC extends Struct implements NativeResource {
         return wrap(CUDA_TEXTURE_DESC.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUDA_TEXTURE_DESC} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_TEXTURE_DESC malloc(MemoryArena arena) {
+        return wrap(CUDA_TEXTURE_DESC.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUDA_TEXTURE_DESC} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUDA_TEXTURE_DESC calloc(MemoryArena arena) {
+        return wrap(CUDA_TEXTURE_DESC.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUDA_TEXTURE_DESC.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -354,6 +372,26 @@ public class CUDA_TEXTURE_DESC extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUDA_TEXTURE_DESC.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_TEXTURE_DESC.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUDA_TEXTURE_DESC.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUDA_TEXTURE_DESC.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #addressMode}. */
@@ -531,6 +569,64 @@ public class CUDA_TEXTURE_DESC extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public CUDA_TEXTURE_DESC.Buffer reserved(int index, int value) { CUDA_TEXTURE_DESC.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code filterMode} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getFilterMode(int[] dst) { gather(CUDA_TEXTURE_DESC.FILTERMODE, dst); return this; }
+        /** Copies the {@code filterMode} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getFilterMode(IntBuffer dst) { gather(CUDA_TEXTURE_DESC.FILTERMODE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getFlags(int[] dst) { gather(CUDA_TEXTURE_DESC.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getFlags(IntBuffer dst) { gather(CUDA_TEXTURE_DESC.FLAGS, dst); return this; }
+        /** Copies the {@code maxAnisotropy} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getMaxAnisotropy(int[] dst) { gather(CUDA_TEXTURE_DESC.MAXANISOTROPY, dst); return this; }
+        /** Copies the {@code maxAnisotropy} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getMaxAnisotropy(IntBuffer dst) { gather(CUDA_TEXTURE_DESC.MAXANISOTROPY, dst); return this; }
+        /** Copies the {@code mipmapFilterMode} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getMipmapFilterMode(int[] dst) { gather(CUDA_TEXTURE_DESC.MIPMAPFILTERMODE, dst); return this; }
+        /** Copies the {@code mipmapFilterMode} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getMipmapFilterMode(IntBuffer dst) { gather(CUDA_TEXTURE_DESC.MIPMAPFILTERMODE, dst); return this; }
+        /** Copies the {@code mipmapLevelBias} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getMipmapLevelBias(float[] dst) { gather(CUDA_TEXTURE_DESC.MIPMAPLEVELBIAS, dst); return this; }
+        /** Copies the {@code mipmapLevelBias} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getMipmapLevelBias(FloatBuffer dst) { gather(CUDA_TEXTURE_DESC.MIPMAPLEVELBIAS, dst); return this; }
+        /** Copies the {@code minMipmapLevelClamp} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getMinMipmapLevelClamp(float[] dst) { gather(CUDA_TEXTURE_DESC.MINMIPMAPLEVELCLAMP, dst); return this; }
+        /** Copies the {@code minMipmapLevelClamp} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getMinMipmapLevelClamp(FloatBuffer dst) { gather(CUDA_TEXTURE_DESC.MINMIPMAPLEVELCLAMP, dst); return this; }
+        /** Copies the {@code maxMipmapLevelClamp} field of the structs between the current position and limit to the specified array. */
+        public CUDA_TEXTURE_DESC.Buffer getMaxMipmapLevelClamp(float[] dst) { gather(CUDA_TEXTURE_DESC.MAXMIPMAPLEVELCLAMP, dst); return this; }
+        /** Copies the {@code maxMipmapLevelClamp} field of the structs between the current position and limit to the specified buffer. */
+        public CUDA_TEXTURE_DESC.Buffer getMaxMipmapLevelClamp(FloatBuffer dst) { gather(CUDA_TEXTURE_DESC.MAXMIPMAPLEVELCLAMP, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code filterMode} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putFilterMode(int[] src) { scatter(CUDA_TEXTURE_DESC.FILTERMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code filterMode} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putFilterMode(IntBuffer src) { scatter(CUDA_TEXTURE_DESC.FILTERMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putFlags(int[] src) { scatter(CUDA_TEXTURE_DESC.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putFlags(IntBuffer src) { scatter(CUDA_TEXTURE_DESC.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code maxAnisotropy} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMaxAnisotropy(int[] src) { scatter(CUDA_TEXTURE_DESC.MAXANISOTROPY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxAnisotropy} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMaxAnisotropy(IntBuffer src) { scatter(CUDA_TEXTURE_DESC.MAXANISOTROPY, src); return this; }
+        /** Copies the values in the specified array to the {@code mipmapFilterMode} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMipmapFilterMode(int[] src) { scatter(CUDA_TEXTURE_DESC.MIPMAPFILTERMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipmapFilterMode} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMipmapFilterMode(IntBuffer src) { scatter(CUDA_TEXTURE_DESC.MIPMAPFILTERMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code mipmapLevelBias} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMipmapLevelBias(float[] src) { scatter(CUDA_TEXTURE_DESC.MIPMAPLEVELBIAS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipmapLevelBias} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMipmapLevelBias(FloatBuffer src) { scatter(CUDA_TEXTURE_DESC.MIPMAPLEVELBIAS, src); return this; }
+        /** Copies the values in the specified array to the {@code minMipmapLevelClamp} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMinMipmapLevelClamp(float[] src) { scatter(CUDA_TEXTURE_DESC.MINMIPMAPLEVELCLAMP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minMipmapLevelClamp} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMinMipmapLevelClamp(FloatBuffer src) { scatter(CUDA_TEXTURE_DESC.MINMIPMAPLEVELCLAMP, src); return this; }
+        /** Copies the values in the specified array to the {@code maxMipmapLevelClamp} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMaxMipmapLevelClamp(float[] src) { scatter(CUDA_TEXTURE_DESC.MAXMIPMAPLEVELCLAMP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxMipmapLevelClamp} field of the structs between the current position and limit. */
+        public CUDA_TEXTURE_DESC.Buffer putMaxMipmapLevelClamp(FloatBuffer src) { scatter(CUDA_TEXTURE_DESC.MAXMIPMAPLEVELCLAMP, src); return this; }
+
     }
 
 }
\ No newline at end of file
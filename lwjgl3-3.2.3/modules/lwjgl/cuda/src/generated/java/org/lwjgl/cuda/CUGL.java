@@ -38,6 +38,8 @@ public class CUGL {
         CU_GL_MAP_RESOURCE_FLAGS_READ_ONLY     = 0x2,
         CU_GL_MAP_RESOURCE_FLAGS_WRITE_DISCARD = 0x3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CUGL.class, "cuGraphicsGLRegisterBuffer,cuGraphicsGLRegisterImage,cuGLCtxCreate,cuGLInit,cuGLRegisterBufferObject,cuGLMapBufferObject,cuGLUnmapBufferObject,cuGLUnregisterBufferObject,cuGLSetBufferObjectMapFlags,cuGLMapBufferObjectAsync,cuGLUnmapBufferObjectAsync");
+
     protected CUGL() {
         throw new UnsupportedOperationException();
     }
@@ -67,7 +69,8 @@ public class CUGL {
 
     public static int ncuGraphicsGLRegisterBuffer(long pCudaResource, int buffer, int Flags) {
         long __functionAddress = Functions.GraphicsGLRegisterBuffer;
-        return callPI(pCudaResource, buffer, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pCudaResource, buffer, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -82,7 +85,8 @@ public class CUGL {
 
     public static int ncuGraphicsGLRegisterImage(long pCudaResource, int image, int target, int Flags) {
         long __functionAddress = Functions.GraphicsGLRegisterImage;
-        return callPI(pCudaResource, image, target, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(pCudaResource, image, target, Flags, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -97,7 +101,8 @@ public class CUGL {
 
     public static int ncuGLCtxCreate(long pCtx, int Flags, int device) {
         long __functionAddress = Functions.GLCtxCreate;
-        return callPI(pCtx, Flags, device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(pCtx, Flags, device, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -113,7 +118,8 @@ public class CUGL {
     @NativeType("CUresult")
     public static int cuGLInit() {
         long __functionAddress = Functions.GLInit;
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callI(__functionAddress));
     }
 
     // --- [ cuGLRegisterBufferObject ] ---
@@ -121,14 +127,16 @@ public class CUGL {
     @NativeType("CUresult")
     public static int cuGLRegisterBufferObject(@NativeType("GLuint") int buffer) {
         long __functionAddress = Functions.GLRegisterBufferObject;
-        return callI(buffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callI(buffer, __functionAddress));
     }
 
     // --- [ cuGLMapBufferObject ] ---
 
     public static int ncuGLMapBufferObject(long dptr, long size, int buffer) {
         long __functionAddress = Functions.GLMapBufferObject;
-        return callPPI(dptr, size, buffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(dptr, size, buffer, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -145,7 +153,8 @@ public class CUGL {
     @NativeType("CUresult")
     public static int cuGLUnmapBufferObject(@NativeType("GLuint") int buffer) {
         long __functionAddress = Functions.GLUnmapBufferObject;
-        return callI(buffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callI(buffer, __functionAddress));
     }
 
     // --- [ cuGLUnregisterBufferObject ] ---
@@ -153,7 +162,8 @@ public class CUGL {
     @NativeType("CUresult")
     public static int cuGLUnregisterBufferObject(@NativeType("GLuint") int buffer) {
         long __functionAddress = Functions.GLUnregisterBufferObject;
-        return callI(buffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callI(buffer, __functionAddress));
     }
 
     // --- [ cuGLSetBufferObjectMapFlags ] ---
@@ -161,14 +171,16 @@ public class CUGL {
     @NativeType("CUresult")
     public static int cuGLSetBufferObjectMapFlags(@NativeType("GLuint") int buffer, @NativeType("unsigned int") int Flags) {
         long __functionAddress = Functions.GLSetBufferObjectMapFlags;
-        return callI(buffer, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callI(buffer, Flags, __functionAddress));
     }
 
     // --- [ cuGLMapBufferObjectAsync ] ---
 
     public static int ncuGLMapBufferObjectAsync(long dptr, long size, int buffer, long hStream) {
         long __functionAddress = Functions.GLMapBufferObjectAsync;
-        return callPPPI(dptr, size, buffer, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPI(dptr, size, buffer, hStream, __functionAddress));
     }
 
     @NativeType("CUresult")
@@ -185,7 +197,8 @@ public class CUGL {
     @NativeType("CUresult")
     public static int cuGLUnmapBufferObjectAsync(@NativeType("GLuint") int buffer, @NativeType("CUstream") long hStream) {
         long __functionAddress = Functions.GLUnmapBufferObjectAsync;
-        return callPI(buffer, hStream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPI(buffer, hStream, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -38,6 +38,8 @@ public class CUGL65 extends CUGL {
         CU_GL_DEVICE_LIST_CURRENT_FRAME = 0x2,
         CU_GL_DEVICE_LIST_NEXT_FRAME    = 0x3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CUGL65.class, "cuGLGetDevices");
+
     protected CUGL65() {
         throw new UnsupportedOperationException();
     }
@@ -57,7 +59,8 @@ public class CUGL65 extends CUGL {
 
     public static int ncuGLGetDevices(long pCudaDeviceCount, long pCudaDevices, int cudaDeviceCount, int deviceList) {
         long __functionAddress = Functions.GLGetDevices;
-        return callPPI(pCudaDeviceCount, pCudaDevices, cudaDeviceCount, deviceList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pCudaDeviceCount, pCudaDevices, cudaDeviceCount, deviceList, __functionAddress));
     }
 
     @NativeType("CUresult")
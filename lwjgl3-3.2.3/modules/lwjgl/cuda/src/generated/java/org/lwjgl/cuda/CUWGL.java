@@ -24,6 +24,8 @@ import static org.lwjgl.cuda.CUDA.*;
  */
 public class CUWGL {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CUWGL.class, "cuWGLGetDevice");
+
     protected CUWGL() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class CUWGL {
         if (CHECKS) {
             check(hGpu);
         }
-        return callPPI(pDevice, hGpu, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pDevice, hGpu, __functionAddress));
     }
 
     /**
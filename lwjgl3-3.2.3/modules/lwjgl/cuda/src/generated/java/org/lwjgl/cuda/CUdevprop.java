@@ -307,6 +307,24 @@ public class CUdevprop extends Struct implements NativeResource {
         return wrap(CUdevprop.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUdevprop} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUdevprop malloc(MemoryArena arena) {
+        return wrap(CUdevprop.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUdevprop} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUdevprop calloc(MemoryArena arena) {
+        return wrap(CUdevprop.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUdevprop.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -345,6 +363,26 @@ public class CUdevprop extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUdevprop.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUdevprop.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUdevprop.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUdevprop.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #maxThreadsPerBlock}. */
@@ -501,6 +539,72 @@ public class CUdevprop extends Struct implements NativeResource {
         /** Sets the specified value to the {@code textureAlign} field. */
         public CUdevprop.Buffer textureAlign(int value) { CUdevprop.ntextureAlign(address(), value); return this; }
 
+        /** Copies the {@code maxThreadsPerBlock} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getMaxThreadsPerBlock(int[] dst) { gather(CUdevprop.MAXTHREADSPERBLOCK, dst); return this; }
+        /** Copies the {@code maxThreadsPerBlock} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getMaxThreadsPerBlock(IntBuffer dst) { gather(CUdevprop.MAXTHREADSPERBLOCK, dst); return this; }
+        /** Copies the {@code sharedMemPerBlock} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getSharedMemPerBlock(int[] dst) { gather(CUdevprop.SHAREDMEMPERBLOCK, dst); return this; }
+        /** Copies the {@code sharedMemPerBlock} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getSharedMemPerBlock(IntBuffer dst) { gather(CUdevprop.SHAREDMEMPERBLOCK, dst); return this; }
+        /** Copies the {@code totalConstantMemory} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getTotalConstantMemory(int[] dst) { gather(CUdevprop.TOTALCONSTANTMEMORY, dst); return this; }
+        /** Copies the {@code totalConstantMemory} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getTotalConstantMemory(IntBuffer dst) { gather(CUdevprop.TOTALCONSTANTMEMORY, dst); return this; }
+        /** Copies the {@code SIMDWidth} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getSIMDWidth(int[] dst) { gather(CUdevprop.SIMDWIDTH, dst); return this; }
+        /** Copies the {@code SIMDWidth} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getSIMDWidth(IntBuffer dst) { gather(CUdevprop.SIMDWIDTH, dst); return this; }
+        /** Copies the {@code memPitch} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getMemPitch(int[] dst) { gather(CUdevprop.MEMPITCH, dst); return this; }
+        /** Copies the {@code memPitch} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getMemPitch(IntBuffer dst) { gather(CUdevprop.MEMPITCH, dst); return this; }
+        /** Copies the {@code regsPerBlock} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getRegsPerBlock(int[] dst) { gather(CUdevprop.REGSPERBLOCK, dst); return this; }
+        /** Copies the {@code regsPerBlock} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getRegsPerBlock(IntBuffer dst) { gather(CUdevprop.REGSPERBLOCK, dst); return this; }
+        /** Copies the {@code clockRate} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getClockRate(int[] dst) { gather(CUdevprop.CLOCKRATE, dst); return this; }
+        /** Copies the {@code clockRate} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getClockRate(IntBuffer dst) { gather(CUdevprop.CLOCKRATE, dst); return this; }
+        /** Copies the {@code textureAlign} field of the structs between the current position and limit to the specified array. */
+        public CUdevprop.Buffer getTextureAlign(int[] dst) { gather(CUdevprop.TEXTUREALIGN, dst); return this; }
+        /** Copies the {@code textureAlign} field of the structs between the current position and limit to the specified buffer. */
+        public CUdevprop.Buffer getTextureAlign(IntBuffer dst) { gather(CUdevprop.TEXTUREALIGN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code maxThreadsPerBlock} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putMaxThreadsPerBlock(int[] src) { scatter(CUdevprop.MAXTHREADSPERBLOCK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxThreadsPerBlock} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putMaxThreadsPerBlock(IntBuffer src) { scatter(CUdevprop.MAXTHREADSPERBLOCK, src); return this; }
+        /** Copies the values in the specified array to the {@code sharedMemPerBlock} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putSharedMemPerBlock(int[] src) { scatter(CUdevprop.SHAREDMEMPERBLOCK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sharedMemPerBlock} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putSharedMemPerBlock(IntBuffer src) { scatter(CUdevprop.SHAREDMEMPERBLOCK, src); return this; }
+        /** Copies the values in the specified array to the {@code totalConstantMemory} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putTotalConstantMemory(int[] src) { scatter(CUdevprop.TOTALCONSTANTMEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code totalConstantMemory} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putTotalConstantMemory(IntBuffer src) { scatter(CUdevprop.TOTALCONSTANTMEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code SIMDWidth} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putSIMDWidth(int[] src) { scatter(CUdevprop.SIMDWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SIMDWidth} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putSIMDWidth(IntBuffer src) { scatter(CUdevprop.SIMDWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code memPitch} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putMemPitch(int[] src) { scatter(CUdevprop.MEMPITCH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memPitch} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putMemPitch(IntBuffer src) { scatter(CUdevprop.MEMPITCH, src); return this; }
+        /** Copies the values in the specified array to the {@code regsPerBlock} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putRegsPerBlock(int[] src) { scatter(CUdevprop.REGSPERBLOCK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code regsPerBlock} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putRegsPerBlock(IntBuffer src) { scatter(CUdevprop.REGSPERBLOCK, src); return this; }
+        /** Copies the values in the specified array to the {@code clockRate} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putClockRate(int[] src) { scatter(CUdevprop.CLOCKRATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code clockRate} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putClockRate(IntBuffer src) { scatter(CUdevprop.CLOCKRATE, src); return this; }
+        /** Copies the values in the specified array to the {@code textureAlign} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putTextureAlign(int[] src) { scatter(CUdevprop.TEXTUREALIGN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code textureAlign} field of the structs between the current position and limit. */
+        public CUdevprop.Buffer putTextureAlign(IntBuffer src) { scatter(CUdevprop.TEXTUREALIGN, src); return this; }
+
     }
 
 }
\ No newline at end of file
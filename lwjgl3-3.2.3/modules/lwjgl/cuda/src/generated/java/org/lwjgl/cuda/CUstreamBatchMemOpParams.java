@@ -365,6 +365,24 @@ public class CUstreamBatchMemOpParams extends Struct implements NativeResource {
         return wrap(CUstreamBatchMemOpParams.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CUstreamBatchMemOpParams} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUstreamBatchMemOpParams malloc(MemoryArena arena) {
+        return wrap(CUstreamBatchMemOpParams.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CUstreamBatchMemOpParams} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CUstreamBatchMemOpParams calloc(MemoryArena arena) {
+        return wrap(CUstreamBatchMemOpParams.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CUstreamBatchMemOpParams.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -403,6 +421,26 @@ public class CUstreamBatchMemOpParams extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CUstreamBatchMemOpParams.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUstreamBatchMemOpParams.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CUstreamBatchMemOpParams.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CUstreamBatchMemOpParams.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #operation}. */
@@ -607,6 +645,16 @@ public class CUstreamBatchMemOpParams extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code pad} field. */
         public CUstreamBatchMemOpParams.Buffer pad(int index, @NativeType("cuuint64_t") long value) { CUstreamBatchMemOpParams.npad(address(), index, value); return this; }
 
+        /** Copies the {@code operation} field of the structs between the current position and limit to the specified array. */
+        public CUstreamBatchMemOpParams.Buffer getOperation(int[] dst) { gather(CUstreamBatchMemOpParams.OPERATION, dst); return this; }
+        /** Copies the {@code operation} field of the structs between the current position and limit to the specified buffer. */
+        public CUstreamBatchMemOpParams.Buffer getOperation(IntBuffer dst) { gather(CUstreamBatchMemOpParams.OPERATION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code operation} field of the structs between the current position and limit. */
+        public CUstreamBatchMemOpParams.Buffer putOperation(int[] src) { scatter(CUstreamBatchMemOpParams.OPERATION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code operation} field of the structs between the current position and limit. */
+        public CUstreamBatchMemOpParams.Buffer putOperation(IntBuffer src) { scatter(CUstreamBatchMemOpParams.OPERATION, src); return this; }
+
     }
 
 }
\ No newline at end of file
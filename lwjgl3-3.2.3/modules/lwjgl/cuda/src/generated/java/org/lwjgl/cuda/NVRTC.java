@@ -58,6 +58,8 @@ public class NVRTC {
         NVRTC_ERROR_NAME_EXPRESSION_NOT_VALID             = 10,
         NVRTC_ERROR_INTERNAL_ERROR                        = 11;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVRTC.class, "nvrtcGetErrorString,nvrtcVersion,nvrtcCreateProgram,nvrtcDestroyProgram,nvrtcCompileProgram,nvrtcGetPTXSize,nvrtcGetPTX,nvrtcGetProgramLogSize,nvrtcGetProgramLog,nvrtcAddNameExpression,nvrtcGetLoweredName");
+
     protected NVRTC() {
         throw new UnsupportedOperationException();
     }
@@ -95,7 +97,8 @@ public class NVRTC {
 
     public static long nnvrtcGetErrorString(int result) {
         long __functionAddress = Functions.GetErrorString;
-        return callP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(result, __functionAddress));
     }
 
     @Nullable
@@ -109,7 +112,8 @@ public class NVRTC {
 
     public static int nnvrtcVersion(long major, long minor) {
         long __functionAddress = Functions.Version;
-        return callPPI(major, minor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(major, minor, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -125,7 +129,8 @@ public class NVRTC {
 
     public static int nnvrtcCreateProgram(long prog, long src, long name, int numHeaders, long headers, long includeNames) {
         long __functionAddress = Functions.CreateProgram;
-        return callPPPPPI(prog, src, name, numHeaders, headers, includeNames, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPPI(prog, src, name, numHeaders, headers, includeNames, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -161,7 +166,8 @@ public class NVRTC {
 
     public static int nnvrtcDestroyProgram(long prog) {
         long __functionAddress = Functions.DestroyProgram;
-        return callPI(prog, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(prog, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -179,7 +185,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPI(prog, numOptions, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(prog, numOptions, options, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -194,7 +201,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPI(prog, ptxSizeRet, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(prog, ptxSizeRet, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -212,7 +220,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPI(prog, ptx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPI(prog, ptx, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -227,7 +236,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPI(prog, logSizeRet, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPI(prog, logSizeRet, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -245,7 +255,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPI(prog, log, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(prog, log, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -260,7 +271,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPI(prog, name_expression, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPI(prog, name_expression, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -290,7 +302,8 @@ public class NVRTC {
         if (CHECKS) {
             check(prog);
         }
-        return callPPPI(prog, name_expression, lowered_name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPPI(prog, name_expression, lowered_name, __functionAddress));
     }
 
     @NativeType("nvrtcResult")
@@ -30,6 +30,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class ANDROIDBlobCache {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANDROIDBlobCache.class, "eglSetBlobCacheFuncsANDROID");
+
     protected ANDROIDBlobCache() {
         throw new UnsupportedOperationException();
     }
@@ -48,7 +50,9 @@ public class ANDROIDBlobCache {
             check(__functionAddress);
             check(dpy);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(dpy, set, get, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void eglSetBlobCacheFuncsANDROID(@NativeType("EGLDisplay") long dpy, @NativeType("EGLSetBlobFuncANDROID") EGLSetBlobFuncANDROIDI set, @NativeType("EGLGetBlobFuncANDROID") EGLGetBlobFuncANDROIDI get) {
@@ -38,6 +38,8 @@ public class ANDROIDCreateNativeClientBuffer {
     /** The buffer will be used to create a texture. This flag must not be set if {@link #EGL_NATIVE_BUFFER_USAGE_RENDERBUFFER_BIT_ANDROID NATIVE_BUFFER_USAGE_RENDERBUFFER_BIT_ANDROID} is set. */
     public static final int EGL_NATIVE_BUFFER_USAGE_TEXTURE_BIT_ANDROID = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANDROIDCreateNativeClientBuffer.class, "eglCreateNativeClientBufferANDROID");
+
     protected ANDROIDCreateNativeClientBuffer() {
         throw new UnsupportedOperationException();
     }
@@ -56,7 +58,8 @@ public class ANDROIDCreateNativeClientBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(attrib_list, __functionAddress));
     }
 
     /**
@@ -83,7 +86,8 @@ public class ANDROIDCreateNativeClientBuffer {
             check(__functionAddress);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPP(attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -31,6 +31,8 @@ public class ANDROIDNativeFenceSync {
         EGL_SYNC_NATIVE_FENCE_SIGNALED_ANDROID = 0x3146,
         EGL_NO_NATIVE_FENCE_FD_ANDROID         = -1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANDROIDNativeFenceSync.class, "eglDupNativeFenceFDANDROID");
+
     protected ANDROIDNativeFenceSync() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class ANDROIDNativeFenceSync {
             check(dpy);
             check(sync);
         }
-        return callPPI(dpy, sync, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, sync, __functionAddress));
     }
 
 }
\ No newline at end of file
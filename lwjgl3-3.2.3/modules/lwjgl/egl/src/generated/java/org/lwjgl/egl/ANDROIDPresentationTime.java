@@ -18,6 +18,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class ANDROIDPresentationTime {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANDROIDPresentationTime.class, "eglPresentationTimeANDROID");
+
     protected ANDROIDPresentationTime() {
         throw new UnsupportedOperationException();
     }
@@ -57,7 +59,8 @@ public class ANDROIDPresentationTime {
             check(dpy);
             check(surface);
         }
-        return callPPJI(dpy, surface, time, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPJI(dpy, surface, time, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
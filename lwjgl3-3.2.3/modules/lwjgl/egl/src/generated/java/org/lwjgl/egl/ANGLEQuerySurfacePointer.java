@@ -20,6 +20,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class ANGLEQuerySurfacePointer {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANGLEQuerySurfacePointer.class, "eglQuerySurfacePointerANGLE");
+
     protected ANGLEQuerySurfacePointer() {
         throw new UnsupportedOperationException();
     }
@@ -39,7 +41,8 @@ public class ANGLEQuerySurfacePointer {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -85,6 +85,8 @@ public class EGL10 {
         EGL_NO_DISPLAY = 0x0L,
         EGL_NO_SURFACE = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EGL10.class, "eglChooseConfig,eglCopyBuffers,eglCreateContext,eglCreatePbufferSurface,eglCreatePixmapSurface,eglCreateWindowSurface,eglDestroyContext,eglDestroySurface,eglGetConfigAttrib,eglGetConfigs,eglGetCurrentDisplay,eglGetCurrentSurface,eglGetDisplay,eglGetError,eglGetProcAddress,eglInitialize,eglMakeCurrent,eglQueryContext,eglQueryString,eglQuerySurface,eglSwapBuffers,eglTerminate,eglWaitGL,eglWaitNative");
+
     protected EGL10() {
         throw new UnsupportedOperationException();
     }
@@ -106,7 +108,8 @@ public class EGL10 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPPI(dpy, attrib_list, configs, config_size, num_config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(dpy, attrib_list, configs, config_size, num_config, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglChooseConfig.xhtml">Reference Page</a> */
@@ -131,7 +134,8 @@ public class EGL10 {
             check(surface);
             check(target);
         }
-        return callPPPI(dpy, surface, target, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(dpy, surface, target, __functionAddress)) != 0;
     }
 
     // --- [ eglCreateContext ] ---
@@ -143,7 +147,8 @@ public class EGL10 {
             check(dpy);
             check(config);
         }
-        return callPPPPP(dpy, config, share_context, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPP(dpy, config, share_context, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreateContext.xhtml">Reference Page</a> */
@@ -164,7 +169,8 @@ public class EGL10 {
             check(dpy);
             check(config);
         }
-        return callPPPP(dpy, config, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPP(dpy, config, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreatePbufferSurface.xhtml">Reference Page</a> */
@@ -186,7 +192,8 @@ public class EGL10 {
             check(config);
             check(pixmap);
         }
-        return callPPPPP(dpy, config, pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPP(dpy, config, pixmap, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreatePixmapSurface.xhtml">Reference Page</a> */
@@ -208,7 +215,8 @@ public class EGL10 {
             check(config);
             check(win);
         }
-        return callPPPPP(dpy, config, win, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPP(dpy, config, win, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreateWindowSurface.xhtml">Reference Page</a> */
@@ -231,7 +239,8 @@ public class EGL10 {
             check(dpy);
             check(ctx);
         }
-        return callPPI(dpy, ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPI(dpy, ctx, __functionAddress)) != 0;
     }
 
     // --- [ eglDestroySurface ] ---
@@ -245,7 +254,8 @@ public class EGL10 {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPI(dpy, surface, __functionAddress)) != 0;
     }
 
     // --- [ eglGetConfigAttrib ] ---
@@ -257,7 +267,8 @@ public class EGL10 {
             check(dpy);
             check(config);
         }
-        return callPPPI(dpy, config, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPI(dpy, config, attribute, value, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglGetConfigAttrib.xhtml">Reference Page</a> */
@@ -277,7 +288,8 @@ public class EGL10 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPI(dpy, configs, config_size, num_config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPI(dpy, configs, config_size, num_config, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglGetConfigs.xhtml">Reference Page</a> */
@@ -298,7 +310,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callP(__functionAddress));
     }
 
     // --- [ eglGetCurrentSurface ] ---
@@ -310,7 +323,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(readdraw, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callP(readdraw, __functionAddress));
     }
 
     // --- [ eglGetDisplay ] ---
@@ -322,7 +336,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(display_id, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPP(display_id, __functionAddress));
     }
 
     // --- [ eglGetError ] ---
@@ -334,7 +349,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callI(__functionAddress));
     }
 
     // --- [ eglGetProcAddress ] ---
@@ -344,7 +360,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(procname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPP(procname, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglGetProcAddress.xhtml">Reference Page</a> */
@@ -377,7 +394,8 @@ public class EGL10 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPI(dpy, major, minor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPI(dpy, major, minor, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglInitialize.xhtml">Reference Page</a> */
@@ -400,7 +418,8 @@ public class EGL10 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPPI(dpy, draw, read, ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPPPI(dpy, draw, read, ctx, __functionAddress)) != 0;
     }
 
     // --- [ eglQueryContext ] ---
@@ -412,7 +431,8 @@ public class EGL10 {
             check(dpy);
             check(ctx);
         }
-        return callPPPI(dpy, ctx, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPPPI(dpy, ctx, attribute, value, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglQueryContext.xhtml">Reference Page</a> */
@@ -431,7 +451,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(dpy, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPP(dpy, name, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglQueryString.xhtml">Reference Page</a> */
@@ -451,7 +472,8 @@ public class EGL10 {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPPI(dpy, surface, attribute, value, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglQuerySurface.xhtml">Reference Page</a> */
@@ -474,7 +496,8 @@ public class EGL10 {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPPI(dpy, surface, __functionAddress)) != 0;
     }
 
     // --- [ eglTerminate ] ---
@@ -487,7 +510,8 @@ public class EGL10 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPI(dpy, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPI(dpy, __functionAddress)) != 0;
     }
 
     // --- [ eglWaitGL ] ---
@@ -499,7 +523,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callI(__functionAddress)) != 0;
     }
 
     // --- [ eglWaitNative ] ---
@@ -511,7 +536,8 @@ public class EGL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(engine, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callI(engine, __functionAddress)) != 0;
     }
 
     /**
@@ -528,7 +554,8 @@ public class EGL10 {
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
             check(num_config, 1);
         }
-        return callPPPPI(dpy, attrib_list, memAddressSafe(configs), remainingSafe(configs), num_config, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(dpy, attrib_list, memAddressSafe(configs), remainingSafe(configs), num_config, __functionAddress)) != 0;
     }
 
     /**
@@ -545,7 +572,8 @@ public class EGL10 {
             check(config);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, config, share_context, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPP(dpy, config, share_context, attrib_list, __functionAddress));
     }
 
     /**
@@ -562,7 +590,8 @@ public class EGL10 {
             check(config);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPP(dpy, config, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPP(dpy, config, attrib_list, __functionAddress));
     }
 
     /**
@@ -580,7 +609,8 @@ public class EGL10 {
             check(pixmap);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, config, pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPP(dpy, config, pixmap, attrib_list, __functionAddress));
     }
 
     /**
@@ -598,7 +628,8 @@ public class EGL10 {
             check(win);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, config, win, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPP(dpy, config, win, attrib_list, __functionAddress));
     }
 
     /**
@@ -615,7 +646,8 @@ public class EGL10 {
             check(config);
             check(value, 1);
         }
-        return callPPPI(dpy, config, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPI(dpy, config, attribute, value, __functionAddress)) != 0;
     }
 
     /**
@@ -631,7 +663,8 @@ public class EGL10 {
             check(dpy);
             check(num_config, 1);
         }
-        return callPPPI(dpy, memAddressSafe(configs), remainingSafe(configs), num_config, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPI(dpy, memAddressSafe(configs), remainingSafe(configs), num_config, __functionAddress)) != 0;
     }
 
     /**
@@ -648,7 +681,8 @@ public class EGL10 {
             check(major, 1);
             check(minor, 1);
         }
-        return callPPPI(dpy, major, minor, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPI(dpy, major, minor, __functionAddress)) != 0;
     }
 
     /**
@@ -665,7 +699,8 @@ public class EGL10 {
             check(ctx);
             check(value, 1);
         }
-        return callPPPI(dpy, ctx, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPPPI(dpy, ctx, attribute, value, __functionAddress)) != 0;
     }
 
     /**
@@ -682,7 +717,8 @@ public class EGL10 {
             check(surface);
             check(value, 1);
         }
-        return callPPPI(dpy, surface, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPPI(dpy, surface, attribute, value, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
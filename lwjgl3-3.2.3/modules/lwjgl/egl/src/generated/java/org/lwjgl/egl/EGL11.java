@@ -29,6 +29,8 @@ public class EGL11 extends EGL10 {
         EGL_TEXTURE_RGBA         = 0x305E,
         EGL_TEXTURE_TARGET       = 0x3081;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EGL11.class, "eglBindTexImage,eglReleaseTexImage,eglSurfaceAttrib,eglSwapInterval");
+
     protected EGL11() {
         throw new UnsupportedOperationException();
     }
@@ -50,7 +52,8 @@ public class EGL11 extends EGL10 {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, buffer, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, surface, buffer, __functionAddress)) != 0;
     }
 
     // --- [ eglReleaseTexImage ] ---
@@ -64,7 +67,8 @@ public class EGL11 extends EGL10 {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, buffer, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, surface, buffer, __functionAddress)) != 0;
     }
 
     // --- [ eglSurfaceAttrib ] ---
@@ -78,7 +82,8 @@ public class EGL11 extends EGL10 {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(dpy, surface, attribute, value, __functionAddress)) != 0;
     }
 
     // --- [ eglSwapInterval ] ---
@@ -91,7 +96,8 @@ public class EGL11 extends EGL10 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPI(dpy, interval, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(dpy, interval, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
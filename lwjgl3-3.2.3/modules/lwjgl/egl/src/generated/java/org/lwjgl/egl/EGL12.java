@@ -49,6 +49,8 @@ public class EGL12 extends EGL11 {
         EGL_UNKNOWN               = -1,
         EGL_VERTICAL_RESOLUTION   = 0x3091;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EGL12.class, "eglBindAPI,eglQueryAPI,eglCreatePbufferFromClientBuffer,eglReleaseThread,eglWaitClient");
+
     protected EGL12() {
         throw new UnsupportedOperationException();
     }
@@ -68,7 +70,8 @@ public class EGL12 extends EGL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(api, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callI(api, __functionAddress)) != 0;
     }
 
     // --- [ eglQueryAPI ] ---
@@ -80,7 +83,8 @@ public class EGL12 extends EGL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(__functionAddress));
     }
 
     // --- [ eglCreatePbufferFromClientBuffer ] ---
@@ -93,7 +97,8 @@ public class EGL12 extends EGL11 {
             check(buffer);
             check(config);
         }
-        return callPPPPP(dpy, buftype, buffer, config, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPP(dpy, buftype, buffer, config, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreatePbufferFromClientBuffer.xhtml">Reference Page</a> */
@@ -114,7 +119,8 @@ public class EGL12 extends EGL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callI(__functionAddress)) != 0;
     }
 
     // --- [ eglWaitClient ] ---
@@ -126,7 +132,8 @@ public class EGL12 extends EGL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callI(__functionAddress)) != 0;
     }
 
     /**
@@ -144,7 +151,8 @@ public class EGL12 extends EGL11 {
             check(config);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, buftype, buffer, config, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPP(dpy, buftype, buffer, config, attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
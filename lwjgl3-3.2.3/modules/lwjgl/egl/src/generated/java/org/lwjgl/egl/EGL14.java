@@ -24,6 +24,8 @@ public class EGL14 extends EGL13 {
 
     public static final long EGL_DEFAULT_DISPLAY = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EGL14.class, "eglGetCurrentContext");
+
     protected EGL14() {
         throw new UnsupportedOperationException();
     }
@@ -43,7 +45,8 @@ public class EGL14 extends EGL13 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -65,6 +65,8 @@ public class EGL15 extends EGL14 {
         EGL_NO_SYNC  = 0x0L,
         EGL_NO_IMAGE = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EGL15.class, "eglCreateSync,eglDestroySync,eglClientWaitSync,eglGetSyncAttrib,eglCreateImage,eglDestroyImage,eglGetPlatformDisplay,eglCreatePlatformWindowSurface,eglCreatePlatformPixmapSurface,eglWaitSync");
+
     protected EGL15() {
         throw new UnsupportedOperationException();
     }
@@ -84,7 +86,8 @@ public class EGL15 extends EGL14 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, type, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, type, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreateSync.xhtml">Reference Page</a> */
@@ -107,7 +110,8 @@ public class EGL15 extends EGL14 {
             check(dpy);
             check(sync);
         }
-        return callPPI(dpy, sync, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, sync, __functionAddress)) != 0;
     }
 
     // --- [ eglClientWaitSync ] ---
@@ -121,7 +125,8 @@ public class EGL15 extends EGL14 {
             check(dpy);
             check(sync);
         }
-        return callPPJI(dpy, sync, flags, timeout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPJI(dpy, sync, flags, timeout, __functionAddress));
     }
 
     // --- [ eglGetSyncAttrib ] ---
@@ -133,7 +138,8 @@ public class EGL15 extends EGL14 {
             check(dpy);
             check(sync);
         }
-        return callPPPI(dpy, sync, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(dpy, sync, attribute, value, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglGetSyncAttrib.xhtml">Reference Page</a> */
@@ -155,7 +161,8 @@ public class EGL15 extends EGL14 {
             check(ctx);
             check(buffer);
         }
-        return callPPPPP(dpy, ctx, target, buffer, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPP(dpy, ctx, target, buffer, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreateImage.xhtml">Reference Page</a> */
@@ -178,7 +185,8 @@ public class EGL15 extends EGL14 {
             check(dpy);
             check(image);
         }
-        return callPPI(dpy, image, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(dpy, image, __functionAddress)) != 0;
     }
 
     // --- [ eglGetPlatformDisplay ] ---
@@ -189,7 +197,8 @@ public class EGL15 extends EGL14 {
             check(__functionAddress);
             check(native_display);
         }
-        return callPPP(platform, native_display, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPP(platform, native_display, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglGetPlatformDisplay.xhtml">Reference Page</a> */
@@ -211,7 +220,8 @@ public class EGL15 extends EGL14 {
             check(config);
             check(native_window);
         }
-        return callPPPPP(dpy, config, native_window, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPPP(dpy, config, native_window, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreatePlatformWindowSurface.xhtml">Reference Page</a> */
@@ -233,7 +243,8 @@ public class EGL15 extends EGL14 {
             check(config);
             check(native_pixmap);
         }
-        return callPPPPP(dpy, config, native_pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPPP(dpy, config, native_pixmap, attrib_list, __functionAddress));
     }
 
     /** <a target="_blank" href="https://www.khronos.org/registry/EGL/sdk/docs/man/html/eglCreatePlatformPixmapSurface.xhtml">Reference Page</a> */
@@ -256,7 +267,8 @@ public class EGL15 extends EGL14 {
             check(dpy);
             check(sync);
         }
-        return callPPI(dpy, sync, flags, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPI(dpy, sync, flags, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -245,6 +245,24 @@ public class EGLClientPixmapHI extends Struct implements NativeResource {
         return wrap(EGLClientPixmapHI.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EGLClientPixmapHI} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EGLClientPixmapHI malloc(MemoryArena arena) {
+        return wrap(EGLClientPixmapHI.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EGLClientPixmapHI} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EGLClientPixmapHI calloc(MemoryArena arena) {
+        return wrap(EGLClientPixmapHI.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EGLClientPixmapHI.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class EGLClientPixmapHI extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EGLClientPixmapHI.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EGLClientPixmapHI.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EGLClientPixmapHI.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EGLClientPixmapHI.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #pData(int) pData}. */
@@ -388,6 +426,32 @@ public class EGLClientPixmapHI extends Struct implements NativeResource {
         /** Sets the specified value to the {@code iStride} field. */
         public EGLClientPixmapHI.Buffer iStride(@NativeType("EGLint") int value) { EGLClientPixmapHI.niStride(address(), value); return this; }
 
+        /** Copies the {@code iWidth} field of the structs between the current position and limit to the specified array. */
+        public EGLClientPixmapHI.Buffer getIWidth(int[] dst) { gather(EGLClientPixmapHI.IWIDTH, dst); return this; }
+        /** Copies the {@code iWidth} field of the structs between the current position and limit to the specified buffer. */
+        public EGLClientPixmapHI.Buffer getIWidth(IntBuffer dst) { gather(EGLClientPixmapHI.IWIDTH, dst); return this; }
+        /** Copies the {@code iHeight} field of the structs between the current position and limit to the specified array. */
+        public EGLClientPixmapHI.Buffer getIHeight(int[] dst) { gather(EGLClientPixmapHI.IHEIGHT, dst); return this; }
+        /** Copies the {@code iHeight} field of the structs between the current position and limit to the specified buffer. */
+        public EGLClientPixmapHI.Buffer getIHeight(IntBuffer dst) { gather(EGLClientPixmapHI.IHEIGHT, dst); return this; }
+        /** Copies the {@code iStride} field of the structs between the current position and limit to the specified array. */
+        public EGLClientPixmapHI.Buffer getIStride(int[] dst) { gather(EGLClientPixmapHI.ISTRIDE, dst); return this; }
+        /** Copies the {@code iStride} field of the structs between the current position and limit to the specified buffer. */
+        public EGLClientPixmapHI.Buffer getIStride(IntBuffer dst) { gather(EGLClientPixmapHI.ISTRIDE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code iWidth} field of the structs between the current position and limit. */
+        public EGLClientPixmapHI.Buffer putIWidth(int[] src) { scatter(EGLClientPixmapHI.IWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code iWidth} field of the structs between the current position and limit. */
+        public EGLClientPixmapHI.Buffer putIWidth(IntBuffer src) { scatter(EGLClientPixmapHI.IWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code iHeight} field of the structs between the current position and limit. */
+        public EGLClientPixmapHI.Buffer putIHeight(int[] src) { scatter(EGLClientPixmapHI.IHEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code iHeight} field of the structs between the current position and limit. */
+        public EGLClientPixmapHI.Buffer putIHeight(IntBuffer src) { scatter(EGLClientPixmapHI.IHEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code iStride} field of the structs between the current position and limit. */
+        public EGLClientPixmapHI.Buffer putIStride(int[] src) { scatter(EGLClientPixmapHI.ISTRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code iStride} field of the structs between the current position and limit. */
+        public EGLClientPixmapHI.Buffer putIStride(IntBuffer src) { scatter(EGLClientPixmapHI.ISTRIDE, src); return this; }
+
     }
 
 }
\ No newline at end of file
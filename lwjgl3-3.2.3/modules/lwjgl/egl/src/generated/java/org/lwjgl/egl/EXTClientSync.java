@@ -36,6 +36,8 @@ public class EXTClientSync {
     /** Returned in {@code value} when {@link EGL15#eglGetSyncAttrib GetSyncAttrib} is called with attribute {@link EGL15#EGL_SYNC_CONDITION SYNC_CONDITION}. */
     public static final int EGL_SYNC_CLIENT_SIGNAL_EXT = 0x3365;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTClientSync.class, "eglClientSignalSyncEXT");
+
     protected EXTClientSync() {
         throw new UnsupportedOperationException();
     }
@@ -55,7 +57,8 @@ public class EXTClientSync {
             check(dpy);
             check(sync);
         }
-        return callPPPI(dpy, sync, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, sync, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -41,6 +41,8 @@ public class EXTCompositor {
         EGL_COMPOSITOR_DROP_NEWEST_FRAME_EXT = 0x3462,
         EGL_COMPOSITOR_KEEP_NEWEST_FRAME_EXT = 0x3463;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTCompositor.class, "eglCompositorSetContextListEXT,eglCompositorSetContextAttributesEXT,eglCompositorSetWindowListEXT,eglCompositorSetWindowAttributesEXT,eglCompositorBindTexWindowEXT,eglCompositorSetSizeEXT,eglCompositorSwapPolicyEXT");
+
     protected EXTCompositor() {
         throw new UnsupportedOperationException();
     }
@@ -59,7 +61,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_ref_ids, num_entries, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(external_ref_ids, num_entries, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -74,7 +77,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_ref_id, context_attributes, num_entries, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(external_ref_id, context_attributes, num_entries, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -89,7 +93,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_ref_id, external_win_ids, num_entries, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(external_ref_id, external_win_ids, num_entries, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -104,7 +109,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_win_id, window_attributes, num_entries, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(external_win_id, window_attributes, num_entries, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -120,7 +126,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(external_win_id, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callI(external_win_id, __functionAddress)) != 0;
     }
 
     // --- [ eglCompositorSetSizeEXT ] ---
@@ -131,7 +138,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(external_win_id, width, height, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callI(external_win_id, width, height, __functionAddress)) != 0;
     }
 
     // --- [ eglCompositorSwapPolicyEXT ] ---
@@ -142,7 +150,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(external_win_id, policy, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callI(external_win_id, policy, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglCompositorSetContextListEXT CompositorSetContextListEXT} */
@@ -152,7 +161,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_ref_ids, external_ref_ids.length, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(external_ref_ids, external_ref_ids.length, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglCompositorSetContextAttributesEXT CompositorSetContextAttributesEXT} */
@@ -162,7 +172,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_ref_id, context_attributes, context_attributes.length, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(external_ref_id, context_attributes, context_attributes.length, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglCompositorSetWindowListEXT CompositorSetWindowListEXT} */
@@ -172,7 +183,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_ref_id, external_win_ids, external_win_ids.length, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(external_ref_id, external_win_ids, external_win_ids.length, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglCompositorSetWindowAttributesEXT CompositorSetWindowAttributesEXT} */
@@ -182,7 +194,8 @@ public class EXTCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(external_win_id, window_attributes, window_attributes.length, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(external_win_id, window_attributes, window_attributes.length, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
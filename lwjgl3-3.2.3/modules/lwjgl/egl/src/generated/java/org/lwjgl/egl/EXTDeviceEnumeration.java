@@ -34,6 +34,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTDeviceEnumeration {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDeviceEnumeration.class, "eglQueryDevicesEXT");
+
     protected EXTDeviceEnumeration() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class EXTDeviceEnumeration {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(max_devices, devices, num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(max_devices, devices, num_devices, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -70,7 +73,8 @@ public class EXTDeviceEnumeration {
             check(__functionAddress);
             check(num_devices, 1);
         }
-        return callPPI(remainingSafe(devices), memAddressSafe(devices), num_devices, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(remainingSafe(devices), memAddressSafe(devices), num_devices, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -33,6 +33,8 @@ public class EXTDeviceQuery {
 
     public static final long EGL_NO_DEVICE_EXT = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDeviceQuery.class, "eglQueryDeviceAttribEXT,eglQueryDeviceStringEXT,eglQueryDisplayAttribEXT");
+
     protected EXTDeviceQuery() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class EXTDeviceQuery {
             check(__functionAddress);
             check(device);
         }
-        return callPPI(device, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -70,7 +73,8 @@ public class EXTDeviceQuery {
             check(__functionAddress);
             check(device);
         }
-        return callPP(device, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(device, name, __functionAddress));
     }
 
     @Nullable
@@ -88,7 +92,8 @@ public class EXTDeviceQuery {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPI(dpy, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(dpy, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -39,6 +39,8 @@ public class EXTImageDMABufImportModifiers {
         EGL_DMA_BUF_PLANE3_MODIFIER_LO_EXT = 0x3449,
         EGL_DMA_BUF_PLANE3_MODIFIER_HI_EXT = 0x344A;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTImageDMABufImportModifiers.class, "eglQueryDmaBufFormatsEXT,eglQueryDmaBufModifiersEXT");
+
     protected EXTImageDMABufImportModifiers() {
         throw new UnsupportedOperationException();
     }
@@ -57,7 +59,8 @@ public class EXTImageDMABufImportModifiers {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPI(dpy, max_formats, formats, num_formats, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, max_formats, formats, num_formats, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -76,7 +79,8 @@ public class EXTImageDMABufImportModifiers {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPPI(dpy, format, max_modifiers, modifiers, external_only, num_modifiers, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(dpy, format, max_modifiers, modifiers, external_only, num_modifiers, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -97,7 +101,8 @@ public class EXTImageDMABufImportModifiers {
             check(dpy);
             check(num_formats, 1);
         }
-        return callPPPI(dpy, lengthSafe(formats), formats, num_formats, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, lengthSafe(formats), formats, num_formats, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglQueryDmaBufModifiersEXT QueryDmaBufModifiersEXT} */
@@ -110,7 +115,8 @@ public class EXTImageDMABufImportModifiers {
             checkSafe(external_only, lengthSafe(modifiers));
             check(num_modifiers, 1);
         }
-        return callPPPPI(dpy, format, lengthSafe(modifiers), modifiers, external_only, num_modifiers, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(dpy, format, lengthSafe(modifiers), modifiers, external_only, num_modifiers, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
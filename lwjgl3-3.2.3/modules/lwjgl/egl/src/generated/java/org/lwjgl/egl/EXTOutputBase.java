@@ -44,6 +44,8 @@ public class EXTOutputBase {
         EGL_NO_OUTPUT_LAYER_EXT = 0x0L,
         EGL_NO_OUTPUT_PORT_EXT  = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTOutputBase.class, "eglGetOutputLayersEXT,eglGetOutputPortsEXT,eglOutputLayerAttribEXT,eglQueryOutputLayerAttribEXT,eglQueryOutputLayerStringEXT,eglOutputPortAttribEXT,eglQueryOutputPortAttribEXT,eglQueryOutputPortStringEXT");
+
     protected EXTOutputBase() {
         throw new UnsupportedOperationException();
     }
@@ -63,7 +65,8 @@ public class EXTOutputBase {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPPI(dpy, attrib_list, layers, max_layers, num_layers, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(dpy, attrib_list, layers, max_layers, num_layers, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -83,7 +86,8 @@ public class EXTOutputBase {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPPPI(dpy, attrib_list, ports, max_ports, num_ports, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(dpy, attrib_list, ports, max_ports, num_ports, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -105,7 +109,8 @@ public class EXTOutputBase {
             check(dpy);
             check(layer);
         }
-        return callPPPI(dpy, layer, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(dpy, layer, attribute, value, __functionAddress)) != 0;
     }
 
     // --- [ eglQueryOutputLayerAttribEXT ] ---
@@ -117,7 +122,8 @@ public class EXTOutputBase {
             check(dpy);
             check(layer);
         }
-        return callPPPI(dpy, layer, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(dpy, layer, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -137,7 +143,8 @@ public class EXTOutputBase {
             check(dpy);
             check(layer);
         }
-        return callPPP(dpy, layer, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPP(dpy, layer, name, __functionAddress));
     }
 
     @Nullable
@@ -157,7 +164,8 @@ public class EXTOutputBase {
             check(dpy);
             check(port);
         }
-        return callPPPI(dpy, port, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPI(dpy, port, attribute, value, __functionAddress)) != 0;
     }
 
     // --- [ eglQueryOutputPortAttribEXT ] ---
@@ -169,7 +177,8 @@ public class EXTOutputBase {
             check(dpy);
             check(port);
         }
-        return callPPPI(dpy, port, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(dpy, port, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -189,7 +198,8 @@ public class EXTOutputBase {
             check(dpy);
             check(port);
         }
-        return callPPP(dpy, port, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPP(dpy, port, name, __functionAddress));
     }
 
     @Nullable
@@ -209,7 +219,8 @@ public class EXTOutputBase {
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
             check(num_layers, 1);
         }
-        return callPPPPI(dpy, memAddressSafe(attrib_list), memAddressSafe(layers), remainingSafe(layers), num_layers, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(dpy, memAddressSafe(attrib_list), memAddressSafe(layers), remainingSafe(layers), num_layers, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglGetOutputPortsEXT GetOutputPortsEXT} */
@@ -222,7 +233,8 @@ public class EXTOutputBase {
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
             check(num_ports, 1);
         }
-        return callPPPPI(dpy, memAddressSafe(attrib_list), memAddressSafe(ports), remainingSafe(ports), num_ports, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(dpy, memAddressSafe(attrib_list), memAddressSafe(ports), remainingSafe(ports), num_ports, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -42,6 +42,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTPlatformBase {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTPlatformBase.class, "eglGetPlatformDisplayEXT,eglCreatePlatformWindowSurfaceEXT,eglCreatePlatformPixmapSurfaceEXT");
+
     protected EXTPlatformBase() {
         throw new UnsupportedOperationException();
     }
@@ -60,7 +62,8 @@ public class EXTPlatformBase {
             check(__functionAddress);
             check(native_display);
         }
-        return callPPP(platform, native_display, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(platform, native_display, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLDisplay")
@@ -81,7 +84,8 @@ public class EXTPlatformBase {
             check(config);
             check(native_window);
         }
-        return callPPPPP(dpy, config, native_window, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPP(dpy, config, native_window, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSurface")
@@ -102,7 +106,8 @@ public class EXTPlatformBase {
             check(config);
             check(native_pixmap);
         }
-        return callPPPPP(dpy, config, native_pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPP(dpy, config, native_pixmap, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSurface")
@@ -122,7 +127,8 @@ public class EXTPlatformBase {
             check(native_display);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPP(platform, native_display, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(platform, native_display, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #eglCreatePlatformWindowSurfaceEXT CreatePlatformWindowSurfaceEXT} */
@@ -136,7 +142,8 @@ public class EXTPlatformBase {
             check(native_window);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, config, native_window, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPP(dpy, config, native_window, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #eglCreatePlatformPixmapSurfaceEXT CreatePlatformPixmapSurfaceEXT} */
@@ -150,7 +157,8 @@ public class EXTPlatformBase {
             check(native_pixmap);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, config, native_pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPP(dpy, config, native_pixmap, attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -26,6 +26,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class EXTStreamConsumerEGLOutput {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTStreamConsumerEGLOutput.class, "eglStreamConsumerOutputEXT");
+
     protected EXTStreamConsumerEGLOutput() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class EXTStreamConsumerEGLOutput {
             check(stream);
             check(layer);
         }
-        return callPPPI(dpy, stream, layer, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, stream, layer, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
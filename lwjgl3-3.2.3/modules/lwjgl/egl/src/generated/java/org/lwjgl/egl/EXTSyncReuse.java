@@ -36,6 +36,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTSyncReuse {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSyncReuse.class, "eglUnsignalSyncEXT");
+
     protected EXTSyncReuse() {
         throw new UnsupportedOperationException();
     }
@@ -55,7 +57,8 @@ public class EXTSyncReuse {
             check(dpy);
             check(sync);
         }
-        return callPPPI(dpy, sync, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, sync, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -19,6 +19,8 @@ public class HIClientpixmap {
 
     public static final int EGL_CLIENT_PIXMAP_POINTER_HI = 0x8F74;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(HIClientpixmap.class, "eglCreatePixmapSurfaceHI");
+
     protected HIClientpixmap() {
         throw new UnsupportedOperationException();
     }
@@ -39,7 +41,8 @@ public class HIClientpixmap {
             check(config);
             EGLClientPixmapHI.validate(pixmap);
         }
-        return callPPPP(dpy, config, pixmap, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(dpy, config, pixmap, __functionAddress));
     }
 
     @NativeType("EGLSurface")
@@ -34,6 +34,8 @@ public class KHRCLEvent2 {
         EGL_SYNC_CL_EVENT_KHR          = 0x30FE,
         EGL_SYNC_CL_EVENT_COMPLETE_KHR = 0x30FF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRCLEvent2.class, "eglCreateSync64KHR");
+
     protected KHRCLEvent2() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class KHRCLEvent2 {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, type, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, type, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSyncKHR")
@@ -67,6 +67,8 @@ public class KHRDebug {
     /** Tokens provided by the input attribute to eglQueryDebugKHR. */
     public static final int EGL_DEBUG_CALLBACK_KHR = 0x33B8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDebug.class, "eglDebugMessageControlKHR,eglQueryDebugKHR,eglLabelObjectKHR");
+
     protected KHRDebug() {
         throw new UnsupportedOperationException();
     }
@@ -84,7 +86,8 @@ public class KHRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(callback, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(callback, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLint")
@@ -102,7 +105,8 @@ public class KHRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -124,7 +128,8 @@ public class KHRDebug {
             check(object);
             check(label);
         }
-        return callPPPI(display, objectType, object, label, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(display, objectType, object, label, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -38,6 +38,8 @@ public class KHRDisplayReference {
     /** Accepted as an attribute in the {@code attrib_list} parameter of {@link EGL15#eglGetPlatformDisplay GetPlatformDisplay} and the {@code name} parameter of {@link #eglQueryDisplayAttribKHR QueryDisplayAttribKHR}. */
     public static final int EGL_TRACK_REFERENCES_KHR = 0x3352;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDisplayReference.class, "eglQueryDisplayAttribKHR");
+
     protected KHRDisplayReference() {
         throw new UnsupportedOperationException();
     }
@@ -56,7 +58,8 @@ public class KHRDisplayReference {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPI(dpy, name, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, name, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
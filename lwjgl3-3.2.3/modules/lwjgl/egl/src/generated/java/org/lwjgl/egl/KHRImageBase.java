@@ -30,6 +30,8 @@ public class KHRImageBase {
 
     public static final long EGL_NO_IMAGE_KHR = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRImageBase.class, "eglCreateImageKHR,eglDestroyImageKHR");
+
     protected KHRImageBase() {
         throw new UnsupportedOperationException();
     }
@@ -50,7 +52,8 @@ public class KHRImageBase {
             check(ctx);
             check(buffer);
         }
-        return callPPPPP(dpy, ctx, target, buffer, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(dpy, ctx, target, buffer, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLImageKHR")
@@ -71,7 +74,8 @@ public class KHRImageBase {
             check(dpy);
             check(image);
         }
-        return callPPI(dpy, image, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, image, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglCreateImageKHR CreateImageKHR} */
@@ -85,7 +89,8 @@ public class KHRImageBase {
             check(buffer);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, ctx, target, buffer, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(dpy, ctx, target, buffer, attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -51,6 +51,8 @@ public class KHRLockSurface3 {
         EGL_LOWER_LEFT_KHR                    = 0x30CE,
         EGL_UPPER_LEFT_KHR                    = 0x30CF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRLockSurface3.class, "eglLockSurfaceKHR,eglUnlockSurfaceKHR,eglQuerySurface64KHR");
+
     protected KHRLockSurface3() {
         throw new UnsupportedOperationException();
     }
@@ -70,7 +72,8 @@ public class KHRLockSurface3 {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -91,7 +94,8 @@ public class KHRLockSurface3 {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, surface, __functionAddress)) != 0;
     }
 
     // --- [ eglQuerySurface64KHR ] ---
@@ -103,7 +107,8 @@ public class KHRLockSurface3 {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(dpy, surface, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -124,7 +129,8 @@ public class KHRLockSurface3 {
             check(surface);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPI(dpy, surface, attrib_list, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, attrib_list, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
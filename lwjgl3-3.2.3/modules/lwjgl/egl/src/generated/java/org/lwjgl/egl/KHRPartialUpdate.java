@@ -38,6 +38,8 @@ public class KHRPartialUpdate {
 
     public static final int EGL_BUFFER_AGE_KHR = 0x313D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRPartialUpdate.class, "eglSetDamageRegionKHR");
+
     protected KHRPartialUpdate() {
         throw new UnsupportedOperationException();
     }
@@ -57,7 +59,8 @@ public class KHRPartialUpdate {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, rects, n_rects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, rects, n_rects, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -74,7 +77,8 @@ public class KHRPartialUpdate {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, rects, lengthSafe(rects), __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, rects, lengthSafe(rects), __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
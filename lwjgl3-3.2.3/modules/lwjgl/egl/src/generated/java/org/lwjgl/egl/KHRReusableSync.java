@@ -44,6 +44,8 @@ public class KHRReusableSync {
         EGL_FOREVER_KHR = 0xFFFFFFFFFFFFFFFFL,
         EGL_NO_SYNC_KHR = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRReusableSync.class, "eglCreateSyncKHR,eglDestroySyncKHR,eglClientWaitSyncKHR,eglSignalSyncKHR,eglGetSyncAttribKHR");
+
     protected KHRReusableSync() {
         throw new UnsupportedOperationException();
     }
@@ -62,7 +64,8 @@ public class KHRReusableSync {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, type, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, type, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSyncKHR")
@@ -83,7 +86,8 @@ public class KHRReusableSync {
             check(dpy);
             check(sync);
         }
-        return callPPI(dpy, sync, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, sync, __functionAddress)) != 0;
     }
 
     // --- [ eglClientWaitSyncKHR ] ---
@@ -96,7 +100,8 @@ public class KHRReusableSync {
             check(dpy);
             check(sync);
         }
-        return callPPJI(dpy, sync, flags, timeout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPJI(dpy, sync, flags, timeout, __functionAddress));
     }
 
     // --- [ eglSignalSyncKHR ] ---
@@ -109,7 +114,8 @@ public class KHRReusableSync {
             check(dpy);
             check(sync);
         }
-        return callPPI(dpy, sync, mode, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(dpy, sync, mode, __functionAddress)) != 0;
     }
 
     // --- [ eglGetSyncAttribKHR ] ---
@@ -121,7 +127,8 @@ public class KHRReusableSync {
             check(dpy);
             check(sync);
         }
-        return callPPPI(dpy, sync, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(dpy, sync, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -141,7 +148,8 @@ public class KHRReusableSync {
             check(dpy);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPP(dpy, type, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, type, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #eglGetSyncAttribKHR GetSyncAttribKHR} */
@@ -154,7 +162,8 @@ public class KHRReusableSync {
             check(sync);
             check(value, 1);
         }
-        return callPPPI(dpy, sync, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(dpy, sync, attribute, value, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -67,6 +67,8 @@ public class KHRStream {
         EGL_BAD_STREAM_KHR                       = 0x321B,
         EGL_BAD_STATE_KHR                        = 0x321C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRStream.class, "eglCreateStreamKHR,eglDestroyStreamKHR,eglStreamAttribKHR,eglQueryStreamKHR,eglQueryStreamu64KHR");
+
     protected KHRStream() {
         throw new UnsupportedOperationException();
     }
@@ -85,7 +87,8 @@ public class KHRStream {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLStreamKHR")
@@ -106,7 +109,8 @@ public class KHRStream {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, stream, __functionAddress)) != 0;
     }
 
     // --- [ eglStreamAttribKHR ] ---
@@ -119,7 +123,8 @@ public class KHRStream {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(dpy, stream, attribute, value, __functionAddress)) != 0;
     }
 
     // --- [ eglQueryStreamKHR ] ---
@@ -131,7 +136,8 @@ public class KHRStream {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(dpy, stream, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -151,7 +157,8 @@ public class KHRStream {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(dpy, stream, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -171,7 +178,8 @@ public class KHRStream {
             check(dpy);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPP(dpy, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #eglQueryStreamKHR QueryStreamKHR} */
@@ -184,7 +192,8 @@ public class KHRStream {
             check(stream);
             check(value, 1);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(dpy, stream, attribute, value, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglQueryStreamu64KHR QueryStreamu64KHR} */
@@ -197,7 +206,8 @@ public class KHRStream {
             check(stream);
             check(value, 1);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(dpy, stream, attribute, value, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** See {@link KHRStream KHR_stream}. */
 public class KHRStreamAttrib {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRStreamAttrib.class, "eglCreateStreamAttribKHR,eglSetStreamAttribKHR,eglQueryStreamAttribKHR,eglStreamConsumerAcquireAttribKHR,eglStreamConsumerReleaseAttribKHR");
+
     protected KHRStreamAttrib() {
         throw new UnsupportedOperationException();
     }
@@ -37,7 +39,8 @@ public class KHRStreamAttrib {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLStreamKHR")
@@ -58,7 +61,8 @@ public class KHRStreamAttrib {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(dpy, stream, attribute, value, __functionAddress)) != 0;
     }
 
     // --- [ eglQueryStreamAttribKHR ] ---
@@ -70,7 +74,8 @@ public class KHRStreamAttrib {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(dpy, stream, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -90,7 +95,8 @@ public class KHRStreamAttrib {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(dpy, stream, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -110,7 +116,8 @@ public class KHRStreamAttrib {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(dpy, stream, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -23,6 +23,8 @@ public class KHRStreamConsumerGLTexture {
 
     public static final int EGL_CONSUMER_ACQUIRE_TIMEOUT_USEC_KHR = 0x321E;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRStreamConsumerGLTexture.class, "eglStreamConsumerGLTextureExternalKHR,eglStreamConsumerAcquireKHR,eglStreamConsumerReleaseKHR");
+
     protected KHRStreamConsumerGLTexture() {
         throw new UnsupportedOperationException();
     }
@@ -43,7 +45,8 @@ public class KHRStreamConsumerGLTexture {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, stream, __functionAddress)) != 0;
     }
 
     // --- [ eglStreamConsumerAcquireKHR ] ---
@@ -56,7 +59,8 @@ public class KHRStreamConsumerGLTexture {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(dpy, stream, __functionAddress)) != 0;
     }
 
     // --- [ eglStreamConsumerReleaseKHR ] ---
@@ -69,7 +73,8 @@ public class KHRStreamConsumerGLTexture {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(dpy, stream, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
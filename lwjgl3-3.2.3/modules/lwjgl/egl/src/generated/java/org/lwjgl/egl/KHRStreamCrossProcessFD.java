@@ -41,6 +41,8 @@ public class KHRStreamCrossProcessFD {
 
     public static final int EGL_NO_FILE_DESCRIPTOR_KHR = -1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRStreamCrossProcessFD.class, "eglGetStreamFileDescriptorKHR,eglCreateStreamFromFileDescriptorKHR");
+
     protected KHRStreamCrossProcessFD() {
         throw new UnsupportedOperationException();
     }
@@ -61,7 +63,8 @@ public class KHRStreamCrossProcessFD {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, stream, __functionAddress));
     }
 
     // --- [ eglCreateStreamFromFileDescriptorKHR ] ---
@@ -73,7 +76,8 @@ public class KHRStreamCrossProcessFD {
             check(__functionAddress);
             check(dpy);
         }
-        return callPP(dpy, file_descriptor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(dpy, file_descriptor, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -44,6 +44,8 @@ public class KHRStreamFIFO {
         EGL_STREAM_TIME_CONSUMER_KHR = 0x31FE,
         EGL_STREAM_TIME_PRODUCER_KHR = 0x31FF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRStreamFIFO.class, "eglQueryStreamTimeKHR");
+
     protected KHRStreamFIFO() {
         throw new UnsupportedOperationException();
     }
@@ -63,7 +65,8 @@ public class KHRStreamFIFO {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, stream, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -84,7 +87,8 @@ public class KHRStreamFIFO {
             check(stream);
             check(value, 1);
         }
-        return callPPPI(dpy, stream, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, stream, attribute, value, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ public class KHRStreamProducerEGLSurface {
 
     public static final int EGL_STREAM_BIT_KHR = 0x800;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRStreamProducerEGLSurface.class, "eglCreateStreamProducerSurfaceKHR");
+
     protected KHRStreamProducerEGLSurface() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class KHRStreamProducerEGLSurface {
             check(config);
             check(stream);
         }
-        return callPPPPP(dpy, config, stream, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(dpy, config, stream, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSurface")
@@ -69,7 +72,8 @@ public class KHRStreamProducerEGLSurface {
             check(stream);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPPP(dpy, config, stream, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(dpy, config, stream, attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class KHRSwapBuffersWithDamage {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRSwapBuffersWithDamage.class, "eglSwapBuffersWithDamageKHR");
+
     protected KHRSwapBuffersWithDamage() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class KHRSwapBuffersWithDamage {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, rects, n_rects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, rects, n_rects, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -64,7 +67,8 @@ public class KHRSwapBuffersWithDamage {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, rects, lengthSafe(rects), __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, rects, lengthSafe(rects), __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
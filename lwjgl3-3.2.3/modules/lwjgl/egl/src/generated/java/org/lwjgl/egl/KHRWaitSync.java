@@ -22,6 +22,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class KHRWaitSync {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRWaitSync.class, "eglWaitSyncKHR");
+
     protected KHRWaitSync() {
         throw new UnsupportedOperationException();
     }
@@ -42,7 +44,8 @@ public class KHRWaitSync {
             check(dpy);
             check(sync);
         }
-        return callPPI(dpy, sync, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, sync, flags, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -34,6 +34,8 @@ public class MESADRMImage {
         EGL_DRM_BUFFER_USE_SCANOUT_MESA   = 0x1,
         EGL_DRM_BUFFER_USE_SHARE_MESA     = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(MESADRMImage.class, "eglCreateDRMImageMESA,eglExportDRMImageMESA");
+
     protected MESADRMImage() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class MESADRMImage {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLImageKHR")
@@ -72,7 +75,8 @@ public class MESADRMImage {
             check(dpy);
             check(image);
         }
-        return callPPPPPI(dpy, image, name, handle, stride, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPPI(dpy, image, name, handle, stride, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -94,7 +98,8 @@ public class MESADRMImage {
             check(dpy);
             checkNTSafe(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPP(dpy, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #eglExportDRMImageMESA ExportDRMImageMESA} */
@@ -109,7 +114,8 @@ public class MESADRMImage {
             checkSafe(handle, 1);
             checkSafe(stride, 1);
         }
-        return callPPPPPI(dpy, image, name, handle, stride, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPPI(dpy, image, name, handle, stride, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class MESAImageDMABufExport {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(MESAImageDMABufExport.class, "eglExportDMABUFImageQueryMESA,eglExportDMABUFImageMESA");
+
     protected MESAImageDMABufExport() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class MESAImageDMABufExport {
             check(dpy);
             check(image);
         }
-        return callPPPPPI(dpy, image, fourcc, num_planes, modifiers, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPPI(dpy, image, fourcc, num_planes, modifiers, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -69,7 +72,8 @@ public class MESAImageDMABufExport {
             check(dpy);
             check(image);
         }
-        return callPPPPPI(dpy, image, fds, strides, offsets, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPPI(dpy, image, fds, strides, offsets, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -94,7 +98,8 @@ public class MESAImageDMABufExport {
             checkSafe(num_planes, 1);
             checkSafe(modifiers, 1);
         }
-        return callPPPPPI(dpy, image, fourcc, num_planes, modifiers, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPPI(dpy, image, fourcc, num_planes, modifiers, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #eglExportDMABUFImageMESA ExportDMABUFImageMESA} */
@@ -109,7 +114,8 @@ public class MESAImageDMABufExport {
             checkSafe(strides, 1);
             checkSafe(offsets, 1);
         }
-        return callPPPPPI(dpy, image, fds, strides, offsets, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPPI(dpy, image, fds, strides, offsets, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
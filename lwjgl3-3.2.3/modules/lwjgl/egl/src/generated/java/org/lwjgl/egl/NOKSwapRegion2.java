@@ -33,6 +33,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NOKSwapRegion2 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NOKSwapRegion2.class, "eglSwapBuffersRegion2NOK");
+
     protected NOKSwapRegion2() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class NOKSwapRegion2 {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, numRects, rects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, numRects, rects, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -69,7 +72,8 @@ public class NOKSwapRegion2 {
             check(dpy);
             check(surface);
         }
-        return callPPPI(dpy, surface, lengthSafe(rects), rects, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, surface, lengthSafe(rects), rects, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVNativeQuery {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVNativeQuery.class, "eglQueryNativeDisplayNV,eglQueryNativeWindowNV,eglQueryNativePixmapNV");
+
     protected NVNativeQuery() {
         throw new UnsupportedOperationException();
     }
@@ -38,7 +40,8 @@ public class NVNativeQuery {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPI(dpy, display_id, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, display_id, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -58,7 +61,8 @@ public class NVNativeQuery {
             check(dpy);
             check(surf);
         }
-        return callPPPI(dpy, surf, window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(dpy, surf, window, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -78,7 +82,8 @@ public class NVNativeQuery {
             check(dpy);
             check(surf);
         }
-        return callPPPI(dpy, surf, pixmap, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(dpy, surf, pixmap, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -24,6 +24,8 @@ public class NVPostSubBuffer {
 
     public static final int EGL_POST_SUB_BUFFER_SUPPORTED_NV = 0x30BE;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVPostSubBuffer.class, "eglPostSubBufferNV");
+
     protected NVPostSubBuffer() {
         throw new UnsupportedOperationException();
     }
@@ -44,7 +46,8 @@ public class NVPostSubBuffer {
             check(dpy);
             check(surface);
         }
-        return callPPI(dpy, surface, x, y, width, height, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, surface, x, y, width, height, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
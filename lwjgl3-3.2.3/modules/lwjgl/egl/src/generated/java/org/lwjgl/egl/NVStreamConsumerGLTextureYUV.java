@@ -42,6 +42,8 @@ public class NVStreamConsumerGLTextureYUV {
     /** Accepted as value for {@link EGL12#EGL_COLOR_BUFFER_TYPE COLOR_BUFFER_TYPE} attribute in {@code attrib_list} by {@link #eglStreamConsumerGLTextureExternalAttribsNV StreamConsumerGLTextureExternalAttribsNV}. */
     public static final int EGL_YUV_BUFFER_EXT = 0x3300;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVStreamConsumerGLTextureYUV.class, "eglStreamConsumerGLTextureExternalAttribsNV");
+
     protected NVStreamConsumerGLTextureYUV() {
         throw new UnsupportedOperationException();
     }
@@ -61,7 +63,8 @@ public class NVStreamConsumerGLTextureYUV {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(dpy, stream, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
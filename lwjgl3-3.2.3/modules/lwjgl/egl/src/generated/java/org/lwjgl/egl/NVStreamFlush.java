@@ -32,6 +32,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class NVStreamFlush {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVStreamFlush.class, "eglStreamFlush");
+
     protected NVStreamFlush() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class NVStreamFlush {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, stream, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -55,6 +55,8 @@ public class NVStreamMetadata {
         EGL_METADATA2_TYPE_NV = 0x325B,
         EGL_METADATA3_TYPE_NV = 0x325C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVStreamMetadata.class, "eglQueryDisplayAttribNV,eglSetStreamMetadataNV,eglQueryStreamMetadataNV");
+
     protected NVStreamMetadata() {
         throw new UnsupportedOperationException();
     }
@@ -73,7 +75,8 @@ public class NVStreamMetadata {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPI(dpy, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -93,7 +96,8 @@ public class NVStreamMetadata {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, n, offset, size, data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(dpy, stream, n, offset, size, data, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -110,7 +114,8 @@ public class NVStreamMetadata {
             check(dpy);
             check(stream);
         }
-        return callPPPI(dpy, stream, name, n, offset, size, data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(dpy, stream, name, n, offset, size, data, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -42,6 +42,8 @@ public class NVStreamReset {
         EGL_SUPPORT_RESET_NV = 0x3334,
         EGL_SUPPORT_REUSE_NV = 0x3335;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVStreamReset.class, "eglResetStreamNV");
+
     protected NVStreamReset() {
         throw new UnsupportedOperationException();
     }
@@ -62,7 +64,8 @@ public class NVStreamReset {
             check(dpy);
             check(stream);
         }
-        return callPPI(dpy, stream, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dpy, stream, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ public class NVStreamSync {
         EGL_SYNC_TYPE_KHR     = 0x30F7,
         EGL_SYNC_NEW_FRAME_NV = 0x321F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVStreamSync.class, "eglCreateStreamSyncNV");
+
     protected NVStreamSync() {
         throw new UnsupportedOperationException();
     }
@@ -46,7 +48,8 @@ public class NVStreamSync {
             check(dpy);
             check(stream);
         }
-        return callPPPP(dpy, stream, type, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(dpy, stream, type, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSyncKHR")
@@ -67,7 +70,8 @@ public class NVStreamSync {
             check(stream);
             checkNT(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPPP(dpy, stream, type, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(dpy, stream, type, attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
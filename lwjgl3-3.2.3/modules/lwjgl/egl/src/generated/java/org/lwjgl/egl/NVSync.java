@@ -45,6 +45,8 @@ public class NVSync {
         EGL_FOREVER_NV = 0xFFFFFFFFFFFFFFFFL,
         EGL_NO_SYNC_NV = 0x0L;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVSync.class, "eglCreateFenceSyncNV,eglDestroySyncNV,eglFenceNV,eglClientWaitSyncNV,eglSignalSyncNV,eglGetSyncAttribNV");
+
     protected NVSync() {
         throw new UnsupportedOperationException();
     }
@@ -63,7 +65,8 @@ public class NVSync {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPP(dpy, condition, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, condition, attrib_list, __functionAddress));
     }
 
     @NativeType("EGLSyncNV")
@@ -83,7 +86,8 @@ public class NVSync {
             check(__functionAddress);
             check(sync);
         }
-        return callPI(sync, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(sync, __functionAddress)) != 0;
     }
 
     // --- [ eglFenceNV ] ---
@@ -95,7 +99,8 @@ public class NVSync {
             check(__functionAddress);
             check(sync);
         }
-        return callPI(sync, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(sync, __functionAddress)) != 0;
     }
 
     // --- [ eglClientWaitSyncNV ] ---
@@ -107,7 +112,8 @@ public class NVSync {
             check(__functionAddress);
             check(sync);
         }
-        return callPJI(sync, flags, timeout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJI(sync, flags, timeout, __functionAddress));
     }
 
     // --- [ eglSignalSyncNV ] ---
@@ -119,7 +125,8 @@ public class NVSync {
             check(__functionAddress);
             check(sync);
         }
-        return callPI(sync, mode, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(sync, mode, __functionAddress)) != 0;
     }
 
     // --- [ eglGetSyncAttribNV ] ---
@@ -130,7 +137,8 @@ public class NVSync {
             check(__functionAddress);
             check(sync);
         }
-        return callPPI(sync, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(sync, attribute, value, __functionAddress));
     }
 
     @NativeType("EGLBoolean")
@@ -150,7 +158,8 @@ public class NVSync {
             check(dpy);
             checkNT(attrib_list, EGL10.EGL_NONE);
         }
-        return callPPP(dpy, condition, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(dpy, condition, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #eglGetSyncAttribNV GetSyncAttribNV} */
@@ -162,7 +171,8 @@ public class NVSync {
             check(sync);
             check(value, 1);
         }
-        return callPPI(sync, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(sync, attribute, value, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
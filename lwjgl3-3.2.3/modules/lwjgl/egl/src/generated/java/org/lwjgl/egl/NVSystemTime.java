@@ -19,6 +19,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class NVSystemTime {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVSystemTime.class, "eglGetSystemTimeFrequencyNV,eglGetSystemTimeNV");
+
     protected NVSystemTime() {
         throw new UnsupportedOperationException();
     }
@@ -37,7 +39,8 @@ public class NVSystemTime {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callJ(__functionAddress));
     }
 
     // --- [ eglGetSystemTimeNV ] ---
@@ -48,7 +51,8 @@ public class NVSystemTime {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callJ(__functionAddress));
     }
 
 }
\ No newline at end of file
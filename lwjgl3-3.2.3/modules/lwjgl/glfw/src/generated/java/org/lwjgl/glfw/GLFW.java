@@ -667,6 +667,8 @@ public class GLFW {
         GLFW_EGL_CONTEXT_API    = 0x36002,
         GLFW_OSMESA_CONTEXT_API = 0x36003;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFW.class, "glfwInit,glfwTerminate,glfwInitHint,glfwGetVersion,glfwGetVersionString,glfwGetError,glfwSetErrorCallback,glfwGetMonitors,glfwGetPrimaryMonitor,glfwGetMonitorPos,glfwGetMonitorWorkarea,glfwGetMonitorPhysicalSize,glfwGetMonitorContentScale,glfwGetMonitorName,glfwSetMonitorUserPointer,glfwGetMonitorUserPointer,glfwSetMonitorCallback,glfwGetVideoModes,glfwGetVideoMode,glfwSetGamma,glfwGetGammaRamp,glfwSetGammaRamp,glfwDefaultWindowHints,glfwWindowHint,glfwWindowHintString,glfwCreateWindow,glfwDestroyWindow,glfwWindowShouldClose,glfwSetWindowShouldClose,glfwSetWindowTitle,glfwSetWindowIcon,glfwGetWindowPos,glfwSetWindowPos,glfwGetWindowSize,glfwSetWindowSizeLimits,glfwSetWindowAspectRatio,glfwSetWindowSize,glfwGetFramebufferSize,glfwGetWindowFrameSize,glfwGetWindowContentScale,glfwGetWindowOpacity,glfwSetWindowOpacity,glfwIconifyWindow,glfwRestoreWindow,glfwMaximizeWindow,glfwShowWindow,glfwHideWindow,glfwFocusWindow,glfwRequestWindowAttention,glfwGetWindowMonitor,glfwSetWindowMonitor,glfwGetWindowAttrib,glfwSetWindowAttrib,glfwSetWindowUserPointer,glfwGetWindowUserPointer,glfwSetWindowPosCallback,glfwSetWindowSizeCallback,glfwSetWindowCloseCallback,glfwSetWindowRefreshCallback,glfwSetWindowFocusCallback,glfwSetWindowIconifyCallback,glfwSetWindowMaximizeCallback,glfwSetFramebufferSizeCallback,glfwSetWindowContentScaleCallback,glfwPollEvents,glfwWaitEvents,glfwWaitEventsTimeout,glfwPostEmptyEvent,glfwGetInputMode,glfwSetInputMode,glfwRawMouseMotionSupported,glfwGetKeyName,glfwGetKeyScancode,glfwGetKey,glfwGetMouseButton,glfwGetCursorPos,glfwSetCursorPos,glfwCreateCursor,glfwCreateStandardCursor,glfwDestroyCursor,glfwSetCursor,glfwSetKeyCallback,glfwSetCharCallback,glfwSetCharModsCallback,glfwSetMouseButtonCallback,glfwSetCursorPosCallback,glfwSetCursorEnterCallback,glfwSetScrollCallback,glfwSetDropCallback,glfwJoystickPresent,glfwGetJoystickAxes,glfwGetJoystickButtons,glfwGetJoystickHats,glfwGetJoystickName,glfwGetJoystickGUID,glfwSetJoystickUserPointer,glfwGetJoystickUserPointer,glfwJoystickIsGamepad,glfwSetJoystickCallback,glfwUpdateGamepadMappings,glfwGetGamepadName,glfwGetGamepadState,glfwSetClipboardString,glfwGetClipboardString,glfwGetTime,glfwSetTime,glfwGetTimerValue,glfwGetTimerFrequency,glfwMakeContextCurrent,glfwGetCurrentContext,glfwSwapBuffers,glfwSwapInterval,glfwExtensionSupported,glfwGetProcAddress");
+
     protected GLFW() {
         throw new UnsupportedOperationException();
     }
@@ -827,7 +829,8 @@ public class GLFW {
     @NativeType("int")
     public static boolean glfwInit() {
         long __functionAddress = Functions.Init;
-        return invokeI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(__functionAddress)) != 0;
     }
 
     // --- [ glfwTerminate ] ---
@@ -852,7 +855,9 @@ public class GLFW {
      */
     public static void glfwTerminate() {
         long __functionAddress = Functions.Terminate;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glfwInitHint ] ---
@@ -880,7 +885,9 @@ public class GLFW {
      */
     public static void glfwInitHint(int hint, int value) {
         long __functionAddress = Functions.InitHint;
+        long __start = FunctionProfiler.start();
         invokeV(hint, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glfwGetVersion ] ---
@@ -888,7 +895,9 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetVersion GetVersion} */
     public static void nglfwGetVersion(long major, long minor, long rev) {
         long __functionAddress = Functions.GetVersion;
+        long __start = FunctionProfiler.start();
         invokePPPV(major, minor, rev, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -924,7 +933,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetVersionString GetVersionString} */
     public static long nglfwGetVersionString() {
         long __functionAddress = Functions.GetVersionString;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -958,7 +968,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetError GetError} */
     public static int nglfwGetError(long description) {
         long __functionAddress = Functions.GetError;
-        return invokePI(description, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePI(description, __functionAddress));
     }
 
     /**
@@ -994,7 +1005,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwSetErrorCallback SetErrorCallback} */
     public static long nglfwSetErrorCallback(long cbfun) {
         long __functionAddress = Functions.SetErrorCallback;
-        return invokePP(cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePP(cbfun, __functionAddress));
     }
 
     /**
@@ -1038,7 +1050,8 @@ public class GLFW {
      */
     public static long nglfwGetMonitors(long count) {
         long __functionAddress = Functions.GetMonitors;
-        return invokePP(count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePP(count, __functionAddress));
     }
 
     /**
@@ -1083,7 +1096,8 @@ public class GLFW {
     @NativeType("GLFWmonitor *")
     public static long glfwGetPrimaryMonitor() {
         long __functionAddress = Functions.GetPrimaryMonitor;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokeP(__functionAddress));
     }
 
     // --- [ glfwGetMonitorPos ] ---
@@ -1094,7 +1108,9 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(monitor, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1126,7 +1142,9 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(monitor, xpos, ypos, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1166,7 +1184,9 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(monitor, widthMM, heightMM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1207,7 +1227,9 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(monitor, xscale, yscale, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1245,7 +1267,8 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(monitor, __functionAddress));
     }
 
     /**
@@ -1293,7 +1316,9 @@ public class GLFW {
             check(monitor);
             check(pointer);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(monitor, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glfwGetMonitorUserPointer ] ---
@@ -1317,7 +1342,8 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePP(monitor, __functionAddress));
     }
 
     // --- [ glfwSetMonitorCallback ] ---
@@ -1325,7 +1351,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwSetMonitorCallback SetMonitorCallback} */
     public static long nglfwSetMonitorCallback(long cbfun) {
         long __functionAddress = Functions.SetMonitorCallback;
-        return invokePP(cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePP(cbfun, __functionAddress));
     }
 
     /**
@@ -1358,7 +1385,8 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePPP(monitor, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePPP(monitor, count, __functionAddress));
     }
 
     /**
@@ -1397,7 +1425,8 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePP(monitor, __functionAddress));
     }
 
     /**
@@ -1452,7 +1481,9 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
+        long __start = FunctionProfiler.start();
         invokePV(monitor, gamma, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glfwGetGammaRamp ] ---
@@ -1463,7 +1494,8 @@ public class GLFW {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePP(monitor, __functionAddress));
     }
 
     /**
@@ -1502,7 +1534,9 @@ public class GLFW {
             check(monitor);
             GLFWGammaRamp.validate(ramp);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(monitor, ramp, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1546,7 +1580,9 @@ public class GLFW {
      */
     public static void glfwDefaultWindowHints() {
         long __functionAddress = Functions.DefaultWindowHints;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glfwWindowHint ] ---
@@ -1617,7 +1653,9 @@ public class GLFW {
      */
     public static void glfwWindowHint(int hint, int value) {
         long __functionAddress = Functions.WindowHint;
+        long __start = FunctionProfiler.start();
         invokeV(hint, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glfwWindowHintString ] ---
@@ -1625,7 +1663,9 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwWindowHintString WindowHintString} */
     public static void nglfwWindowHintString(int hint, long value) {
         long __functionAddress = Functions.WindowHintString;
+        long __start = FunctionProfiler.start();
         invokePV(hint, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -1711,7 +1751,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwCreateWindow CreateWindow} */
     public static long nglfwCreateWindow(int width, int height, long title, long monitor, long share) {
         long __functionAddress = Functions.CreateWindow;
-        return invokePPPP(width, height, title, monitor, share, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePPPP(width, height, title, monitor, share, __functionAddress));
     }
 
     /**
@@ -1921,7 +1962,9 @@ public class GLFW {
      */
     public static void glfwDestroyWindow(@NativeType("GLFWwindow *") long window) {
         long __functionAddress = Functions.DestroyWindow;
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glfwWindowShouldClose ] ---
@@ -1943,7 +1986,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePI(window, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePI(window, __functionAddress)) != 0;
     }
 
     // --- [ glfwSetWindowShouldClose ] ---
@@ -1964,7 +2008,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, value ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glfwSetWindowTitle ] ---
@@ -1975,7 +2021,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(window, title, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2033,7 +2081,9 @@ public class GLFW {
             check(window);
             if (images != NULL) { GLFWImage.validate(images, count); }
         }
+        long __start = FunctionProfiler.start();
         invokePPV(window, count, images, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2076,7 +2126,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2134,7 +2186,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glfwGetWindowSize ] ---
@@ -2145,7 +2199,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2200,7 +2256,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, minwidth, minheight, maxwidth, maxheight, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glfwSetWindowAspectRatio ] ---
@@ -2234,7 +2292,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, numer, denom, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ glfwSetWindowSize ] ---
@@ -2267,7 +2327,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ glfwGetFramebufferSize ] ---
@@ -2278,7 +2340,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -2311,7 +2375,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(window, left, top, right, bottom, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2352,7 +2418,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, xscale, yscale, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2405,7 +2473,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePF(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokePF(window, __functionAddress));
     }
 
     // --- [ glfwSetWindowOpacity ] ---
@@ -2433,7 +2502,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, opacity, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ glfwIconifyWindow ] ---
@@ -2459,7 +2530,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ glfwRestoreWindow ] ---
@@ -2480,7 +2553,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ glfwMaximizeWindow ] ---
@@ -2501,7 +2576,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ glfwShowWindow ] ---
@@ -2524,7 +2601,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ glfwHideWindow ] ---
@@ -2543,7 +2622,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ glfwFocusWindow ] ---
@@ -2576,7 +2657,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ glfwRequestWindowAttention ] ---
@@ -2605,7 +2688,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ glfwGetWindowMonitor ] ---
@@ -2627,7 +2712,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, invokePP(window, __functionAddress));
     }
 
     // --- [ glfwSetWindowMonitor ] ---
@@ -2671,7 +2757,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(window, monitor, xpos, ypos, width, height, refreshRate, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ glfwGetWindowAttrib ] ---
@@ -2698,7 +2786,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePI(window, attrib, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, invokePI(window, attrib, __functionAddress));
     }
 
     // --- [ glfwSetWindowAttrib ] ---
@@ -2725,7 +2814,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, attrib, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     // --- [ glfwSetWindowUserPointer ] ---
@@ -2745,7 +2836,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(window, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ glfwGetWindowUserPointer ] ---
@@ -2765,7 +2858,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, invokePP(window, __functionAddress));
     }
 
     // --- [ glfwSetWindowPosCallback ] ---
@@ -2776,7 +2870,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -2812,7 +2907,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -2843,7 +2939,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -2883,7 +2980,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -2917,7 +3015,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -2950,7 +3049,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -2980,7 +3080,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3010,7 +3111,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3040,7 +3142,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3091,7 +3194,9 @@ public class GLFW {
     public static void glfwPollEvents() {
         long __functionAddress = Functions.PollEvents;
         EventLoop.OnScreen.check();
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ glfwWaitEvents ] ---
@@ -3126,7 +3231,9 @@ public class GLFW {
     public static void glfwWaitEvents() {
         long __functionAddress = Functions.WaitEvents;
         EventLoop.OnScreen.check();
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ glfwWaitEventsTimeout ] ---
@@ -3164,7 +3271,9 @@ public class GLFW {
     public static void glfwWaitEventsTimeout(double timeout) {
         long __functionAddress = Functions.WaitEventsTimeout;
         EventLoop.OnScreen.check();
+        long __start = FunctionProfiler.start();
         invokeV(timeout, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     // --- [ glfwPostEmptyEvent ] ---
@@ -3178,7 +3287,9 @@ public class GLFW {
      */
     public static void glfwPostEmptyEvent() {
         long __functionAddress = Functions.PostEmptyEvent;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ glfwGetInputMode ] ---
@@ -3200,7 +3311,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePI(window, mode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, invokePI(window, mode, __functionAddress));
     }
 
     // --- [ glfwSetInputMode ] ---
@@ -3246,7 +3358,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, mode, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     // --- [ glfwRawMouseMotionSupported ] ---
@@ -3270,7 +3384,8 @@ public class GLFW {
     @NativeType("int")
     public static boolean glfwRawMouseMotionSupported() {
         long __functionAddress = Functions.RawMouseMotionSupported;
-        return invokeI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, invokeI(__functionAddress)) != 0;
     }
 
     // --- [ glfwGetKeyName ] ---
@@ -3278,7 +3393,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetKeyName GetKeyName} */
     public static long nglfwGetKeyName(int key, int scancode) {
         long __functionAddress = Functions.GetKeyName;
-        return invokeP(key, scancode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, invokeP(key, scancode, __functionAddress));
     }
 
     /**
@@ -3361,7 +3477,8 @@ public class GLFW {
      */
     public static int glfwGetKeyScancode(int key) {
         long __functionAddress = Functions.GetKeyScancode;
-        return invokeI(key, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, invokeI(key, __functionAddress));
     }
 
     // --- [ glfwGetKey ] ---
@@ -3399,7 +3516,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePI(window, key, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, invokePI(window, key, __functionAddress));
     }
 
     // --- [ glfwGetMouseButton ] ---
@@ -3425,7 +3543,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePI(window, button, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, invokePI(window, button, __functionAddress));
     }
 
     // --- [ glfwGetCursorPos ] ---
@@ -3436,7 +3555,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /**
@@ -3495,7 +3616,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     // --- [ glfwCreateCursor ] ---
@@ -3506,7 +3629,8 @@ public class GLFW {
         if (CHECKS) {
             GLFWImage.validate(image);
         }
-        return invokePP(image, xhot, yhot, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, invokePP(image, xhot, yhot, __functionAddress));
     }
 
     /**
@@ -3555,7 +3679,8 @@ public class GLFW {
     @NativeType("GLFWcursor *")
     public static long glfwCreateStandardCursor(int shape) {
         long __functionAddress = Functions.CreateStandardCursor;
-        return invokeP(shape, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, invokeP(shape, __functionAddress));
     }
 
     // --- [ glfwDestroyCursor ] ---
@@ -3579,7 +3704,9 @@ public class GLFW {
         if (CHECKS) {
             check(cursor);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cursor, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     // --- [ glfwSetCursor ] ---
@@ -3602,7 +3729,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(window, cursor, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     // --- [ glfwSetKeyCallback ] ---
@@ -3613,7 +3742,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 81, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3654,7 +3784,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3690,7 +3821,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 83, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3727,7 +3859,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 84, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3760,7 +3893,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 85, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3790,7 +3924,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 86, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3819,7 +3954,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 87, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3850,7 +3986,8 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
-        return invokePPP(window, cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 88, __start, invokePPP(window, cbfun, __functionAddress));
     }
 
     /**
@@ -3895,7 +4032,8 @@ public class GLFW {
     @NativeType("int")
     public static boolean glfwJoystickPresent(int jid) {
         long __functionAddress = Functions.JoystickPresent;
-        return invokeI(jid, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, invokeI(jid, __functionAddress)) != 0;
     }
 
     // --- [ glfwGetJoystickAxes ] ---
@@ -3907,7 +4045,8 @@ public class GLFW {
      */
     public static long nglfwGetJoystickAxes(int jid, long count) {
         long __functionAddress = Functions.GetJoystickAxes;
-        return invokePP(jid, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, invokePP(jid, count, __functionAddress));
     }
 
     /**
@@ -3949,7 +4088,8 @@ public class GLFW {
      */
     public static long nglfwGetJoystickButtons(int jid, long count) {
         long __functionAddress = Functions.GetJoystickButtons;
-        return invokePP(jid, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, invokePP(jid, count, __functionAddress));
     }
 
     /**
@@ -3995,7 +4135,8 @@ public class GLFW {
      */
     public static long nglfwGetJoystickHats(int jid, long count) {
         long __functionAddress = Functions.GetJoystickHats;
-        return invokePP(jid, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 92, __start, invokePP(jid, count, __functionAddress));
     }
 
     /**
@@ -4060,7 +4201,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetJoystickName GetJoystickName} */
     public static long nglfwGetJoystickName(int jid) {
         long __functionAddress = Functions.GetJoystickName;
-        return invokeP(jid, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, invokeP(jid, __functionAddress));
     }
 
     /**
@@ -4092,7 +4234,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetJoystickGUID GetJoystickGUID} */
     public static long nglfwGetJoystickGUID(int jid) {
         long __functionAddress = Functions.GetJoystickGUID;
-        return invokeP(jid, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 94, __start, invokeP(jid, __functionAddress));
     }
 
     /**
@@ -4148,7 +4291,9 @@ public class GLFW {
         if (CHECKS) {
             check(pointer);
         }
+        long __start = FunctionProfiler.start();
         invokePV(jid, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     // --- [ glfwGetJoystickUserPointer ] ---
@@ -4169,7 +4314,8 @@ public class GLFW {
     @NativeType("void *")
     public static long glfwGetJoystickUserPointer(int jid) {
         long __functionAddress = Functions.GetJoystickUserPointer;
-        return invokeP(jid, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 96, __start, invokeP(jid, __functionAddress));
     }
 
     // --- [ glfwJoystickIsGamepad ] ---
@@ -4191,7 +4337,8 @@ public class GLFW {
     @NativeType("int")
     public static boolean glfwJoystickIsGamepad(int jid) {
         long __functionAddress = Functions.JoystickIsGamepad;
-        return invokeI(jid, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 97, __start, invokeI(jid, __functionAddress)) != 0;
     }
 
     // --- [ glfwSetJoystickCallback ] ---
@@ -4199,7 +4346,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwSetJoystickCallback SetJoystickCallback} */
     public static long nglfwSetJoystickCallback(long cbfun) {
         long __functionAddress = Functions.SetJoystickCallback;
-        return invokePP(cbfun, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 98, __start, invokePP(cbfun, __functionAddress));
     }
 
     /**
@@ -4229,7 +4377,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwUpdateGamepadMappings UpdateGamepadMappings} */
     public static int nglfwUpdateGamepadMappings(long string) {
         long __functionAddress = Functions.UpdateGamepadMappings;
-        return invokePI(string, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 99, __start, invokePI(string, __functionAddress));
     }
 
     /**
@@ -4265,7 +4414,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetGamepadName GetGamepadName} */
     public static long nglfwGetGamepadName(int jid) {
         long __functionAddress = Functions.GetGamepadName;
-        return invokeP(jid, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 100, __start, invokeP(jid, __functionAddress));
     }
 
     /**
@@ -4297,7 +4447,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetGamepadState GetGamepadState} */
     public static int nglfwGetGamepadState(int jid, long state) {
         long __functionAddress = Functions.GetGamepadState;
-        return invokePI(jid, state, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 101, __start, invokePI(jid, state, __functionAddress));
     }
 
     /**
@@ -4330,7 +4481,9 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwSetClipboardString SetClipboardString} */
     public static void nglfwSetClipboardString(long window, long string) {
         long __functionAddress = Functions.SetClipboardString;
+        long __start = FunctionProfiler.start();
         invokePPV(window, string, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     /**
@@ -4388,7 +4541,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetClipboardString GetClipboardString} */
     public static long nglfwGetClipboardString(long window) {
         long __functionAddress = Functions.GetClipboardString;
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 103, __start, invokePP(window, __functionAddress));
     }
 
     /**
@@ -4436,7 +4590,8 @@ public class GLFW {
      */
     public static double glfwGetTime() {
         long __functionAddress = Functions.GetTime;
-        return invokeD(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, invokeD(__functionAddress));
     }
 
     // --- [ glfwSetTime ] ---
@@ -4457,7 +4612,9 @@ public class GLFW {
      */
     public static void glfwSetTime(double time) {
         long __functionAddress = Functions.SetTime;
+        long __start = FunctionProfiler.start();
         invokeV(time, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     // --- [ glfwGetTimerValue ] ---
@@ -4476,7 +4633,8 @@ public class GLFW {
     @NativeType("uint64_t")
     public static long glfwGetTimerValue() {
         long __functionAddress = Functions.GetTimerValue;
-        return invokeJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 106, __start, invokeJ(__functionAddress));
     }
 
     // --- [ glfwGetTimerFrequency ] ---
@@ -4493,7 +4651,8 @@ public class GLFW {
     @NativeType("uint64_t")
     public static long glfwGetTimerFrequency() {
         long __functionAddress = Functions.GetTimerFrequency;
-        return invokeJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 107, __start, invokeJ(__functionAddress));
     }
 
     // --- [ glfwMakeContextCurrent ] ---
@@ -4519,7 +4678,9 @@ public class GLFW {
      */
     public static void glfwMakeContextCurrent(@NativeType("GLFWwindow *") long window) {
         long __functionAddress = Functions.MakeContextCurrent;
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     // --- [ glfwGetCurrentContext ] ---
@@ -4536,7 +4697,8 @@ public class GLFW {
     @NativeType("GLFWwindow *")
     public static long glfwGetCurrentContext() {
         long __functionAddress = Functions.GetCurrentContext;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 109, __start, invokeP(__functionAddress));
     }
 
     // --- [ glfwSwapBuffers ] ---
@@ -4562,7 +4724,9 @@ public class GLFW {
         if (CHECKS) {
             check(window);
         }
+        long __start = FunctionProfiler.start();
         invokePV(window, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     // --- [ glfwSwapInterval ] ---
@@ -4598,7 +4762,9 @@ public class GLFW {
      */
     public static void glfwSwapInterval(int interval) {
         long __functionAddress = Functions.SwapInterval;
+        long __start = FunctionProfiler.start();
         invokeV(interval, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     // --- [ glfwExtensionSupported ] ---
@@ -4606,7 +4772,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwExtensionSupported ExtensionSupported} */
     public static int nglfwExtensionSupported(long extension) {
         long __functionAddress = Functions.ExtensionSupported;
-        return invokePI(extension, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, invokePI(extension, __functionAddress));
     }
 
     /**
@@ -4674,7 +4841,8 @@ public class GLFW {
     /** Unsafe version of: {@link #glfwGetProcAddress GetProcAddress} */
     public static long nglfwGetProcAddress(long procname) {
         long __functionAddress = Functions.GetProcAddress;
-        return invokePP(procname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 113, __start, invokePP(procname, __functionAddress));
     }
 
     /**
@@ -4753,7 +4921,9 @@ public class GLFW {
             checkSafe(minor, 1);
             checkSafe(rev, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(major, minor, rev, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glfwGetMonitorPos GetMonitorPos} */
@@ -4764,7 +4934,9 @@ public class GLFW {
             checkSafe(xpos, 1);
             checkSafe(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(monitor, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glfwGetMonitorWorkarea GetMonitorWorkarea} */
@@ -4777,7 +4949,9 @@ public class GLFW {
             checkSafe(width, 1);
             checkSafe(height, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(monitor, xpos, ypos, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glfwGetMonitorPhysicalSize GetMonitorPhysicalSize} */
@@ -4788,7 +4962,9 @@ public class GLFW {
             checkSafe(widthMM, 1);
             checkSafe(heightMM, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(monitor, widthMM, heightMM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glfwGetMonitorContentScale GetMonitorContentScale} */
@@ -4799,7 +4975,9 @@ public class GLFW {
             checkSafe(xscale, 1);
             checkSafe(yscale, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(monitor, xscale, yscale, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glfwGetWindowPos GetWindowPos} */
@@ -4810,7 +4988,9 @@ public class GLFW {
             checkSafe(xpos, 1);
             checkSafe(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glfwGetWindowSize GetWindowSize} */
@@ -4821,7 +5001,9 @@ public class GLFW {
             checkSafe(width, 1);
             checkSafe(height, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glfwGetFramebufferSize GetFramebufferSize} */
@@ -4832,7 +5014,9 @@ public class GLFW {
             checkSafe(width, 1);
             checkSafe(height, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #glfwGetWindowFrameSize GetWindowFrameSize} */
@@ -4845,7 +5029,9 @@ public class GLFW {
             checkSafe(right, 1);
             checkSafe(bottom, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(window, left, top, right, bottom, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** Array version of: {@link #glfwGetWindowContentScale GetWindowContentScale} */
@@ -4856,7 +5042,9 @@ public class GLFW {
             checkSafe(xscale, 1);
             checkSafe(yscale, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, xscale, yscale, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #glfwGetCursorPos GetCursorPos} */
@@ -4867,7 +5055,9 @@ public class GLFW {
             checkSafe(xpos, 1);
             checkSafe(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(window, xpos, ypos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
 }
\ No newline at end of file
@@ -7,8 +7,6 @@ package org.lwjgl.glfw;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * Instances of this interface may be passed to the {@link GLFW#glfwSetCharCallback SetCharCallback} method.
  * 
@@ -24,7 +22,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("GLFWcharfun")
-public interface GLFWCharCallbackI extends CallbackI.V {
+public interface GLFWCharCallbackI extends CallbackI.V_PI {
 
     String SIGNATURE = "(pi)v";
 
@@ -32,11 +30,8 @@ public interface GLFWCharCallbackI extends CallbackI.V {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default void callback(long args) {
-        invoke(
-            dcbArgPointer(args),
-            dcbArgInt(args)
-        );
+    default void callback(long window, int codepoint) {
+        invoke(window, codepoint);
     }
 
     /**
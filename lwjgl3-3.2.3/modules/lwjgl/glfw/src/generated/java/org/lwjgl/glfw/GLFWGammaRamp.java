@@ -238,6 +238,24 @@ public class GLFWGammaRamp extends Struct implements NativeResource {
         return wrap(GLFWGammaRamp.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code GLFWGammaRamp} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static GLFWGammaRamp malloc(MemoryArena arena) {
+        return wrap(GLFWGammaRamp.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code GLFWGammaRamp} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static GLFWGammaRamp calloc(MemoryArena arena) {
+        return wrap(GLFWGammaRamp.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link GLFWGammaRamp.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class GLFWGammaRamp extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link GLFWGammaRamp.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static GLFWGammaRamp.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link GLFWGammaRamp.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static GLFWGammaRamp.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #red() red}. */
@@ -379,6 +417,16 @@ public class GLFWGammaRamp extends Struct implements NativeResource {
         /** Sets the specified value to the {@code size} field. */
         public GLFWGammaRamp.Buffer size(@NativeType("unsigned int") int value) { GLFWGammaRamp.nsize(address(), value); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public GLFWGammaRamp.Buffer getSize(int[] dst) { gather(GLFWGammaRamp.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWGammaRamp.Buffer getSize(IntBuffer dst) { gather(GLFWGammaRamp.SIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public GLFWGammaRamp.Buffer putSize(int[] src) { scatter(GLFWGammaRamp.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public GLFWGammaRamp.Buffer putSize(IntBuffer src) { scatter(GLFWGammaRamp.SIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
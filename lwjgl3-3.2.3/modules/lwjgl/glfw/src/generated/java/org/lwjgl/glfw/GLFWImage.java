@@ -230,6 +230,24 @@ public class GLFWImage extends Struct implements NativeResource {
         return wrap(GLFWImage.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code GLFWImage} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static GLFWImage malloc(MemoryArena arena) {
+        return wrap(GLFWImage.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code GLFWImage} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static GLFWImage calloc(MemoryArena arena) {
+        return wrap(GLFWImage.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link GLFWImage.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class GLFWImage extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link GLFWImage.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static GLFWImage.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link GLFWImage.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static GLFWImage.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #width}. */
@@ -362,6 +400,24 @@ public class GLFWImage extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pixels} field. */
         public GLFWImage.Buffer pixels(@NativeType("unsigned char *") ByteBuffer value) { GLFWImage.npixels(address(), value); return this; }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public GLFWImage.Buffer getWidth(int[] dst) { gather(GLFWImage.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWImage.Buffer getWidth(IntBuffer dst) { gather(GLFWImage.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public GLFWImage.Buffer getHeight(int[] dst) { gather(GLFWImage.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWImage.Buffer getHeight(IntBuffer dst) { gather(GLFWImage.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public GLFWImage.Buffer putWidth(int[] src) { scatter(GLFWImage.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public GLFWImage.Buffer putWidth(IntBuffer src) { scatter(GLFWImage.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public GLFWImage.Buffer putHeight(int[] src) { scatter(GLFWImage.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public GLFWImage.Buffer putHeight(IntBuffer src) { scatter(GLFWImage.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -14,6 +14,8 @@ import static org.lwjgl.system.JNI.*;
 /** Native bindings to the GLFW library's Cocoa native access functions. */
 public class GLFWNativeCocoa {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeCocoa.class, "glfwGetCocoaMonitor,glfwGetCocoaWindow");
+
     protected GLFWNativeCocoa() {
         throw new UnsupportedOperationException();
     }
@@ -49,7 +51,8 @@ public class GLFWNativeCocoa {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePI(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePI(monitor, __functionAddress));
     }
 
     // --- [ glfwGetCocoaWindow ] ---
@@ -71,7 +74,8 @@ public class GLFWNativeCocoa {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(window, __functionAddress));
     }
 
 }
\ No newline at end of file
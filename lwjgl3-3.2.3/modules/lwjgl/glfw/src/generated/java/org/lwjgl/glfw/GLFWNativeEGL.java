@@ -16,6 +16,8 @@ import org.lwjgl.egl.EGL10;
 /** Native bindings to the GLFW library's EGL native access functions. */
 public class GLFWNativeEGL {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeEGL.class, "glfwGetEGLDisplay,glfwGetEGLContext,glfwGetEGLSurface");
+
     protected GLFWNativeEGL() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class GLFWNativeEGL {
     @NativeType("EGLDisplay")
     public static long glfwGetEGLDisplay() {
         long __functionAddress = Functions.GetEGLDisplay;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ glfwGetEGLContext ] ---
@@ -69,7 +72,8 @@ public class GLFWNativeEGL {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(window, __functionAddress));
     }
 
     // --- [ glfwGetEGLSurface ] ---
@@ -89,7 +93,8 @@ public class GLFWNativeEGL {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(window, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -14,6 +14,8 @@ import static org.lwjgl.system.JNI.*;
 /** Native bindings to the GLFW library's GLX native access functions. */
 public class GLFWNativeGLX {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeGLX.class, "glfwGetGLXContext,glfwGetGLXWindow");
+
     protected GLFWNativeGLX() {
         throw new UnsupportedOperationException();
     }
@@ -49,7 +51,8 @@ public class GLFWNativeGLX {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(window, __functionAddress));
     }
 
     // --- [ glfwGetGLXWindow ] ---
@@ -71,7 +74,8 @@ public class GLFWNativeGLX {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(window, __functionAddress));
     }
 
 }
\ No newline at end of file
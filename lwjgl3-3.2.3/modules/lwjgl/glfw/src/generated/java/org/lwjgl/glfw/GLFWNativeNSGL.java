@@ -14,6 +14,8 @@ import static org.lwjgl.system.JNI.*;
 /** Native bindings to the GLFW library's NSGL native access functions. */
 public class GLFWNativeNSGL {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeNSGL.class, "glfwGetNSGLContext");
+
     protected GLFWNativeNSGL() {
         throw new UnsupportedOperationException();
     }
@@ -48,7 +50,8 @@ public class GLFWNativeNSGL {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(window, __functionAddress));
     }
 
 }
\ No newline at end of file
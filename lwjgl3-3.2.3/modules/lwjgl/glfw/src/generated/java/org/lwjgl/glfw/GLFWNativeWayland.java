@@ -14,6 +14,8 @@ import static org.lwjgl.system.JNI.*;
 /** Native bindings to the GLFW library's Wayland native access functions. */
 public class GLFWNativeWayland {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeWayland.class, "glfwGetWaylandDisplay,glfwGetWaylandMonitor,glfwGetWaylandWindow");
+
     protected GLFWNativeWayland() {
         throw new UnsupportedOperationException();
     }
@@ -45,7 +47,8 @@ public class GLFWNativeWayland {
     @NativeType("struct wl_display *")
     public static long glfwGetWaylandDisplay() {
         long __functionAddress = Functions.GetWaylandDisplay;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ glfwGetWaylandMonitor ] ---
@@ -65,7 +68,8 @@ public class GLFWNativeWayland {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(monitor, __functionAddress));
     }
 
     // --- [ glfwGetWaylandWindow ] ---
@@ -85,7 +89,8 @@ public class GLFWNativeWayland {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(window, __functionAddress));
     }
 
 }
\ No newline at end of file
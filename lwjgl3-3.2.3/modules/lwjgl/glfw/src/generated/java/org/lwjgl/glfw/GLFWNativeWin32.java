@@ -17,6 +17,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Native bindings to the GLFW library's Win32 native access functions. */
 public class GLFWNativeWin32 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeWin32.class, "glfwGetWin32Adapter,glfwGetWin32Monitor,glfwGetWin32Window,glfwAttachWin32Window");
+
     protected GLFWNativeWin32() {
         throw new UnsupportedOperationException();
     }
@@ -43,7 +45,8 @@ public class GLFWNativeWin32 {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(monitor, __functionAddress));
     }
 
     /**
@@ -72,7 +75,8 @@ public class GLFWNativeWin32 {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePP(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(monitor, __functionAddress));
     }
 
     /**
@@ -112,7 +116,8 @@ public class GLFWNativeWin32 {
         if (CHECKS) {
             check(window);
         }
-        return invokePP(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(window, __functionAddress));
     }
 
     // --- [ glfwAttachWin32Window ] ---
@@ -140,7 +145,8 @@ public class GLFWNativeWin32 {
         if (CHECKS) {
             check(handle);
         }
-        return invokePPP(handle, share, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPP(handle, share, __functionAddress));
     }
 
 }
\ No newline at end of file
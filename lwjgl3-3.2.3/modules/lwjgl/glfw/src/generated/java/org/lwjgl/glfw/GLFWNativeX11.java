@@ -20,6 +20,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Native bindings to the GLFW library's X11 native access functions. */
 public class GLFWNativeX11 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWNativeX11.class, "glfwGetX11Display,glfwGetX11Adapter,glfwGetX11Monitor,glfwGetX11Window,glfwSetX11SelectionString,glfwGetX11SelectionString");
+
     protected GLFWNativeX11() {
         throw new UnsupportedOperationException();
     }
@@ -54,7 +56,8 @@ public class GLFWNativeX11 {
     @NativeType("Display *")
     public static long glfwGetX11Display() {
         long __functionAddress = Functions.GetX11Display;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ glfwGetX11Adapter ] ---
@@ -76,7 +79,8 @@ public class GLFWNativeX11 {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePN(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePN(monitor, __functionAddress));
     }
 
     // --- [ glfwGetX11Monitor ] ---
@@ -98,7 +102,8 @@ public class GLFWNativeX11 {
         if (CHECKS) {
             check(monitor);
         }
-        return invokePN(monitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePN(monitor, __functionAddress));
     }
 
     // --- [ glfwGetX11Window ] ---
@@ -120,7 +125,8 @@ public class GLFWNativeX11 {
         if (CHECKS) {
             check(window);
         }
-        return invokePN(window, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePN(window, __functionAddress));
     }
 
     // --- [ glfwSetX11SelectionString ] ---
@@ -128,7 +134,9 @@ public class GLFWNativeX11 {
     /** Unsafe version of: {@link #glfwSetX11SelectionString SetX11SelectionString} */
     public static void nglfwSetX11SelectionString(long string) {
         long __functionAddress = Functions.SetX11SelectionString;
+        long __start = FunctionProfiler.start();
         invokePV(string, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -172,7 +180,8 @@ public class GLFWNativeX11 {
     /** Unsafe version of: {@link #glfwGetX11SelectionString GetX11SelectionString} */
     public static long nglfwGetX11SelectionString() {
         long __functionAddress = Functions.GetX11SelectionString;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokeP(__functionAddress));
     }
 
     /**
@@ -199,6 +199,31 @@ public class GLFWVidMode extends Struct {
         /** Returns the value of the {@code refreshRate} field. */
         public int refreshRate() { return GLFWVidMode.nrefreshRate(address()); }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public GLFWVidMode.Buffer getWidth(int[] dst) { gather(GLFWVidMode.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWVidMode.Buffer getWidth(IntBuffer dst) { gather(GLFWVidMode.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public GLFWVidMode.Buffer getHeight(int[] dst) { gather(GLFWVidMode.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWVidMode.Buffer getHeight(IntBuffer dst) { gather(GLFWVidMode.HEIGHT, dst); return this; }
+        /** Copies the {@code redBits} field of the structs between the current position and limit to the specified array. */
+        public GLFWVidMode.Buffer getRedBits(int[] dst) { gather(GLFWVidMode.REDBITS, dst); return this; }
+        /** Copies the {@code redBits} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWVidMode.Buffer getRedBits(IntBuffer dst) { gather(GLFWVidMode.REDBITS, dst); return this; }
+        /** Copies the {@code greenBits} field of the structs between the current position and limit to the specified array. */
+        public GLFWVidMode.Buffer getGreenBits(int[] dst) { gather(GLFWVidMode.GREENBITS, dst); return this; }
+        /** Copies the {@code greenBits} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWVidMode.Buffer getGreenBits(IntBuffer dst) { gather(GLFWVidMode.GREENBITS, dst); return this; }
+        /** Copies the {@code blueBits} field of the structs between the current position and limit to the specified array. */
+        public GLFWVidMode.Buffer getBlueBits(int[] dst) { gather(GLFWVidMode.BLUEBITS, dst); return this; }
+        /** Copies the {@code blueBits} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWVidMode.Buffer getBlueBits(IntBuffer dst) { gather(GLFWVidMode.BLUEBITS, dst); return this; }
+        /** Copies the {@code refreshRate} field of the structs between the current position and limit to the specified array. */
+        public GLFWVidMode.Buffer getRefreshRate(int[] dst) { gather(GLFWVidMode.REFRESHRATE, dst); return this; }
+        /** Copies the {@code refreshRate} field of the structs between the current position and limit to the specified buffer. */
+        public GLFWVidMode.Buffer getRefreshRate(IntBuffer dst) { gather(GLFWVidMode.REFRESHRATE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -24,6 +24,8 @@ import org.lwjgl.vulkan.*;
 /** Native bindings to the GLFW library's Vulkan functions. */
 public class GLFWVulkan {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLFWVulkan.class, "glfwVulkanSupported,glfwGetRequiredInstanceExtensions,glfwGetInstanceProcAddress,glfwGetPhysicalDevicePresentationSupport,glfwCreateWindowSurface");
+
     protected GLFWVulkan() {
         throw new UnsupportedOperationException();
     }
@@ -82,7 +84,8 @@ public class GLFWVulkan {
     @NativeType("int")
     public static boolean glfwVulkanSupported() {
         long __functionAddress = Functions.VulkanSupported;
-        return invokeI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(__functionAddress)) != 0;
     }
 
     // --- [ glfwGetRequiredInstanceExtensions ] ---
@@ -94,7 +97,8 @@ public class GLFWVulkan {
      */
     public static long nglfwGetRequiredInstanceExtensions(long count) {
         long __functionAddress = Functions.GetRequiredInstanceExtensions;
-        return invokePP(count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(count, __functionAddress));
     }
 
     /**
@@ -139,7 +143,8 @@ public class GLFWVulkan {
     /** Unsafe version of: {@link #glfwGetInstanceProcAddress GetInstanceProcAddress} */
     public static long nglfwGetInstanceProcAddress(long instance, long procname) {
         long __functionAddress = Functions.GetInstanceProcAddress;
-        return invokePPP(instance, procname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPP(instance, procname, __functionAddress));
     }
 
     /**
@@ -244,7 +249,8 @@ public class GLFWVulkan {
     @NativeType("int")
     public static boolean glfwGetPhysicalDevicePresentationSupport(VkInstance instance, VkPhysicalDevice device, @NativeType("uint32_t") int queuefamily) {
         long __functionAddress = Functions.GetPhysicalDevicePresentationSupport;
-        return invokePPI(instance.address(), device.address(), queuefamily, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPI(instance.address(), device.address(), queuefamily, __functionAddress)) != 0;
     }
 
     // --- [ glfwCreateWindowSurface ] ---
@@ -256,7 +262,8 @@ public class GLFWVulkan {
             check(window);
             if (allocator != NULL) { VkAllocationCallbacks.validate(allocator); }
         }
-        return invokePPPPI(instance, window, allocator, surface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPPI(instance, window, allocator, surface, __functionAddress));
     }
 
     /**
@@ -308,7 +315,8 @@ public class GLFWVulkan {
             check(surface, 1);
             if (allocator != null) { VkAllocationCallbacks.validate(allocator.address()); }
         }
-        return invokePPPPI(instance.address(), window, memAddressSafe(allocator), surface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPPI(instance.address(), window, memAddressSafe(allocator), surface, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -199,6 +199,11 @@ public class JAWTDrawingSurfaceInfo extends Struct {
         @NativeType("JAWT_Rectangle *")
         public JAWTRectangle.Buffer clip() { return JAWTDrawingSurfaceInfo.nclip(address()); }
 
+        /** Copies the {@code clipSize} field of the structs between the current position and limit to the specified array. */
+        public JAWTDrawingSurfaceInfo.Buffer getClipSize(int[] dst) { gather(JAWTDrawingSurfaceInfo.CLIPSIZE, dst); return this; }
+        /** Copies the {@code clipSize} field of the structs between the current position and limit to the specified buffer. */
+        public JAWTDrawingSurfaceInfo.Buffer getClipSize(IntBuffer dst) { gather(JAWTDrawingSurfaceInfo.CLIPSIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
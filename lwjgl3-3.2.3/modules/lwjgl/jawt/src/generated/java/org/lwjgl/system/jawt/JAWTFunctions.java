@@ -63,6 +63,8 @@ public class JAWTFunctions {
         JAWT_LOCK_BOUNDS_CHANGED  = 0x4,
         JAWT_LOCK_SURFACE_CHANGED = 0x8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(JAWTFunctions.class, "JAWT_GetAWT,JAWT_DrawingSurface_Lock,JAWT_DrawingSurface_GetDrawingSurfaceInfo,JAWT_DrawingSurface_FreeDrawingSurfaceInfo,JAWT_DrawingSurface_Unlock,JAWT_GetDrawingSurface,JAWT_FreeDrawingSurface,JAWT_Lock,JAWT_Unlock,JAWT_GetComponent,JAWT_CreateEmbeddedFrame,JAWT_SetBounds,JAWT_SynthesizeWindowActivation");
+
     protected JAWTFunctions() {
         throw new UnsupportedOperationException();
     }
@@ -93,7 +95,8 @@ public class JAWTFunctions {
     /** Unsafe version of: {@link #JAWT_GetAWT GetAWT} */
     public static boolean nJAWT_GetAWT(long awt) {
         long __functionAddress = Functions.GetAWT;
-        return nJAWT_GetAWT(awt, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nJAWT_GetAWT(awt, __functionAddress));
     }
 
     /**
@@ -115,7 +118,8 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(ds, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(ds, __functionAddress));
     }
 
     /**
@@ -145,7 +149,8 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(ds, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPP(ds, __functionAddress));
     }
 
     /**
@@ -175,7 +180,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(dsi, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -195,7 +202,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ds, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -229,7 +238,8 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
-        long __result = nJAWT_GetDrawingSurface(target, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nJAWT_GetDrawingSurface(target, __functionAddress));
         return JAWTDrawingSurface.createSafe(__result);
     }
 
@@ -240,7 +250,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ds, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -267,7 +279,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nJAWT_Lock(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ JAWT_Unlock ] ---
@@ -284,7 +298,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nJAWT_Unlock(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ JAWT_GetComponent ] ---
@@ -309,7 +325,8 @@ public class JAWTFunctions {
             check(platformInfo);
             check(__functionAddress);
         }
-        return nJAWT_GetComponent(platformInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nJAWT_GetComponent(platformInfo, __functionAddress));
     }
 
     // --- [ JAWT_CreateEmbeddedFrame ] ---
@@ -336,7 +353,8 @@ public class JAWTFunctions {
             check(platformInfo);
             check(__functionAddress);
         }
-        return nJAWT_CreateEmbeddedFrame(platformInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nJAWT_CreateEmbeddedFrame(platformInfo, __functionAddress));
     }
 
     // --- [ JAWT_SetBounds ] ---
@@ -369,7 +387,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nJAWT_SetBounds(embeddedFrame, x, y, w, h, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ JAWT_SynthesizeWindowActivation ] ---
@@ -392,7 +412,9 @@ public class JAWTFunctions {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nJAWT_SynthesizeWindowActivation(embeddedFrame, doActivate, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
 }
\ No newline at end of file
@@ -235,6 +235,24 @@ public class JAWTRectangle extends Struct implements NativeResource {
         return wrap(JAWTRectangle.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code JAWTRectangle} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static JAWTRectangle malloc(MemoryArena arena) {
+        return wrap(JAWTRectangle.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code JAWTRectangle} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static JAWTRectangle calloc(MemoryArena arena) {
+        return wrap(JAWTRectangle.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link JAWTRectangle.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class JAWTRectangle extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link JAWTRectangle.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static JAWTRectangle.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link JAWTRectangle.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static JAWTRectangle.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -353,6 +391,40 @@ public class JAWTRectangle extends Struct implements NativeResource {
         /** Sets the specified value to the {@code height} field. */
         public JAWTRectangle.Buffer height(@NativeType("jint") int value) { JAWTRectangle.nheight(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public JAWTRectangle.Buffer getX(int[] dst) { gather(JAWTRectangle.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public JAWTRectangle.Buffer getX(IntBuffer dst) { gather(JAWTRectangle.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public JAWTRectangle.Buffer getY(int[] dst) { gather(JAWTRectangle.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public JAWTRectangle.Buffer getY(IntBuffer dst) { gather(JAWTRectangle.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public JAWTRectangle.Buffer getWidth(int[] dst) { gather(JAWTRectangle.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public JAWTRectangle.Buffer getWidth(IntBuffer dst) { gather(JAWTRectangle.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public JAWTRectangle.Buffer getHeight(int[] dst) { gather(JAWTRectangle.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public JAWTRectangle.Buffer getHeight(IntBuffer dst) { gather(JAWTRectangle.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putX(int[] src) { scatter(JAWTRectangle.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putX(IntBuffer src) { scatter(JAWTRectangle.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putY(int[] src) { scatter(JAWTRectangle.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putY(IntBuffer src) { scatter(JAWTRectangle.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putWidth(int[] src) { scatter(JAWTRectangle.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putWidth(IntBuffer src) { scatter(JAWTRectangle.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putHeight(int[] src) { scatter(JAWTRectangle.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public JAWTRectangle.Buffer putHeight(IntBuffer src) { scatter(JAWTRectangle.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
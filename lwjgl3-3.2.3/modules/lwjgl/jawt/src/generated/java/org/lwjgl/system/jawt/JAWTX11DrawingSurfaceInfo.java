@@ -196,6 +196,11 @@ public class JAWTX11DrawingSurfaceInfo extends Struct {
         /** Returns the value of the {@code depth} field. */
         public int depth() { return JAWTX11DrawingSurfaceInfo.ndepth(address()); }
 
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified array. */
+        public JAWTX11DrawingSurfaceInfo.Buffer getDepth(int[] dst) { gather(JAWTX11DrawingSurfaceInfo.DEPTH, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified buffer. */
+        public JAWTX11DrawingSurfaceInfo.Buffer getDepth(IntBuffer dst) { gather(JAWTX11DrawingSurfaceInfo.DEPTH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
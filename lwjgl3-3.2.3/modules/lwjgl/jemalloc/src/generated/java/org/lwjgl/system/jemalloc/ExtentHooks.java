@@ -265,6 +265,24 @@ public class ExtentHooks extends Struct implements NativeResource {
         return wrap(ExtentHooks.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ExtentHooks} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ExtentHooks malloc(MemoryArena arena) {
+        return wrap(ExtentHooks.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ExtentHooks} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ExtentHooks calloc(MemoryArena arena) {
+        return wrap(ExtentHooks.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #alloc}. */
@@ -68,6 +68,8 @@ public class JEmalloc {
     /** Use as arena index in "stats.arenas.&lt;i&gt;.*" mallctl interfaces to select destroyed arenas. */
     public static final int MALLCTL_ARENAS_DESTROYED = 0x1001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(JEmalloc.class, "je_malloc_message,je_malloc,je_calloc,je_posix_memalign,je_aligned_alloc,je_realloc,je_free,je_mallocx,je_rallocx,je_xallocx,je_sallocx,je_dallocx,je_sdallocx,je_nallocx,je_mallctl,je_mallctlnametomib,je_mallctlbymib,je_malloc_stats_print,je_malloc_usable_size");
+
     protected JEmalloc() {
         throw new UnsupportedOperationException();
     }
@@ -130,7 +132,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_malloc malloc} */
     public static long nje_malloc(long size) {
         long __functionAddress = Functions.malloc;
-        return invokePP(size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(size, __functionAddress));
     }
 
     /**
@@ -151,7 +154,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_calloc calloc} */
     public static long nje_calloc(long num, long size) {
         long __functionAddress = Functions.calloc;
-        return invokePPP(num, size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPP(num, size, __functionAddress));
     }
 
     /**
@@ -173,7 +177,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_posix_memalign posix_memalign} */
     public static int nje_posix_memalign(long memptr, long alignment, long size) {
         long __functionAddress = Functions.posix_memalign;
-        return invokePPPI(memptr, alignment, size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPPI(memptr, alignment, size, __functionAddress));
     }
 
     /**
@@ -196,7 +201,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_aligned_alloc aligned_alloc} */
     public static long nje_aligned_alloc(long alignment, long size) {
         long __functionAddress = Functions.aligned_alloc;
-        return invokePPP(alignment, size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPP(alignment, size, __functionAddress));
     }
 
     /**
@@ -218,7 +224,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_realloc realloc} */
     public static long nje_realloc(long ptr, long size) {
         long __functionAddress = Functions.realloc;
-        return invokePPP(ptr, size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPP(ptr, size, __functionAddress));
     }
 
     /**
@@ -243,7 +250,9 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_free free} */
     public static void nje_free(long ptr) {
         long __functionAddress = Functions.free;
+        long __start = FunctionProfiler.start();
         invokePV(ptr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -314,7 +323,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_mallocx mallocx} */
     public static long nje_mallocx(long size, int flags) {
         long __functionAddress = Functions.mallocx;
-        return invokePP(size, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePP(size, flags, __functionAddress));
     }
 
     /**
@@ -336,7 +346,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_rallocx rallocx} */
     public static long nje_rallocx(long ptr, long size, int flags) {
         long __functionAddress = Functions.rallocx;
-        return invokePPP(ptr, size, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPP(ptr, size, flags, __functionAddress));
     }
 
     /**
@@ -360,7 +371,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_xallocx xallocx} */
     public static long nje_xallocx(long ptr, long size, long extra, int flags) {
         long __functionAddress = Functions.xallocx;
-        return invokePPPP(ptr, size, extra, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPPP(ptr, size, extra, flags, __functionAddress));
     }
 
     /**
@@ -383,7 +395,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_sallocx sallocx} */
     public static long nje_sallocx(long ptr, int flags) {
         long __functionAddress = Functions.sallocx;
-        return invokePP(ptr, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePP(ptr, flags, __functionAddress));
     }
 
     /**
@@ -402,7 +415,9 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_dallocx dallocx} */
     public static void nje_dallocx(long ptr, int flags) {
         long __functionAddress = Functions.dallocx;
+        long __start = FunctionProfiler.start();
         invokePV(ptr, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -484,7 +499,9 @@ public class JEmalloc {
      */
     public static void nje_sdallocx(long ptr, long size, int flags) {
         long __functionAddress = Functions.sdallocx;
+        long __start = FunctionProfiler.start();
         invokePPV(ptr, size, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -562,7 +579,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_nallocx nallocx} */
     public static long nje_nallocx(long size, int flags) {
         long __functionAddress = Functions.nallocx;
-        return invokePP(size, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(size, flags, __functionAddress));
     }
 
     /**
@@ -589,7 +607,8 @@ public class JEmalloc {
      */
     public static int nje_mallctl(long name, long oldp, long oldlenp, long newp, long newlen) {
         long __functionAddress = Functions.mallctl;
-        return invokePPPPPI(name, oldp, oldlenp, newp, newlen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPPPPI(name, oldp, oldlenp, newp, newlen, __functionAddress));
     }
 
     /**
@@ -649,7 +668,8 @@ public class JEmalloc {
      */
     public static int nje_mallctlnametomib(long name, long mibp, long miblenp) {
         long __functionAddress = Functions.mallctlnametomib;
-        return invokePPPI(name, mibp, miblenp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePPPI(name, mibp, miblenp, __functionAddress));
     }
 
     /**
@@ -748,7 +768,8 @@ public class JEmalloc {
      */
     public static int nje_mallctlbymib(long mib, long miblen, long oldp, long oldlenp, long newp, long newlen) {
         long __functionAddress = Functions.mallctlbymib;
-        return invokePPPPPPI(mib, miblen, oldp, oldlenp, newp, newlen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePPPPPPI(mib, miblen, oldp, oldlenp, newp, newlen, __functionAddress));
     }
 
     /**
@@ -771,7 +792,9 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_malloc_stats_print malloc_stats_print} */
     public static void nje_malloc_stats_print(long write_cb, long cbopaque, long opts) {
         long __functionAddress = Functions.malloc_stats_print;
+        long __start = FunctionProfiler.start();
         invokePPPV(write_cb, cbopaque, opts, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -823,7 +846,8 @@ public class JEmalloc {
     /** Unsafe version of: {@link #je_malloc_usable_size malloc_usable_size} */
     public static long nje_malloc_usable_size(long ptr) {
         long __functionAddress = Functions.malloc_usable_size;
-        return invokePP(ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePP(ptr, __functionAddress));
     }
 
     /**
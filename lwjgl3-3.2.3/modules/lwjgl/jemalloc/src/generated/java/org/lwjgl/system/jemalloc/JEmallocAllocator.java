@@ -65,4 +65,9 @@ public class JEmallocAllocator implements MemoryAllocator {
         nje_free(ptr);
     }
 
+    @Override
+    public long usable_size(long ptr) {
+        return nje_malloc_usable_size(ptr);
+    }
+
 }
@@ -73,6 +73,11 @@ fun config() {
         nje_free(ptr);
     }
 
+    @Override
+    public long usable_size(long ptr) {
+        return nje_malloc_usable_size(ptr);
+    }
+
 }""")
         }
     })
@@ -45,6 +45,8 @@ public class LibDivide {
         LIBDIVIDE_ADD_MARKER       = 0x40,
         LIBDIVIDE_NEGATIVE_DIVISOR = 0x80;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LibDivide.class, "libdivide_s32_gen_ref,libdivide_u32_gen_ref,libdivide_s64_gen_ref,libdivide_u64_gen_ref,libdivide_s32_branchfree_gen_ref,libdivide_u32_branchfree_gen_ref,libdivide_s64_branchfree_gen_ref,libdivide_u64_branchfree_gen_ref,libdivide_s32_do_ref,libdivide_u32_do_ref,libdivide_s64_do_ref,libdivide_u64_do_ref,libdivide_s32_branchfree_do_ref,libdivide_u32_branchfree_do_ref,libdivide_s64_branchfree_do_ref,libdivide_u64_branchfree_do_ref,libdivide_s32_recover,libdivide_u32_recover,libdivide_s64_recover,libdivide_u64_recover,libdivide_s32_branchfree_recover,libdivide_u32_branchfree_recover,libdivide_s64_branchfree_recover,libdivide_u64_branchfree_recover");
+
     static { Library.loadSystem(System::load, System::loadLibrary, LibDivide.class, "org.lwjgl.libdivide", Platform.mapLibraryNameBundled("lwjgl_libdivide")); }
 
     protected LibDivide() {
@@ -57,7 +59,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_s32_t")
     static LibDivideS32 libdivide_s32_gen_ref(@NativeType("int32_t") int denom, @NativeType("struct libdivide_s32_t") LibDivideS32 __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_s32_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
@@ -67,7 +71,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_u32_t")
     static LibDivideU32 libdivide_u32_gen_ref(@NativeType("uint32_t") int denom, @NativeType("struct libdivide_u32_t") LibDivideU32 __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_u32_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
         return __result;
     }
 
@@ -77,7 +83,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_s64_t")
     static LibDivideS64 libdivide_s64_gen_ref(@NativeType("int64_t") long denom, @NativeType("struct libdivide_s64_t") LibDivideS64 __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_s64_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
         return __result;
     }
 
@@ -87,7 +95,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_u64_t")
     static LibDivideU64 libdivide_u64_gen_ref(@NativeType("uint64_t") long denom, @NativeType("struct libdivide_u64_t") LibDivideU64 __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_u64_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
@@ -97,7 +107,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_s32_branchfree_t")
     static LibDivideS32BranchFree libdivide_s32_branchfree_gen_ref(@NativeType("int32_t") int denom, @NativeType("struct libdivide_s32_branchfree_t") LibDivideS32BranchFree __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_s32_branchfree_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
         return __result;
     }
 
@@ -107,7 +119,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_u32_branchfree_t")
     static LibDivideU32BranchFree libdivide_u32_branchfree_gen_ref(@NativeType("uint32_t") int denom, @NativeType("struct libdivide_u32_branchfree_t") LibDivideU32BranchFree __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_u32_branchfree_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
         return __result;
     }
 
@@ -117,7 +131,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_s64_branchfree_t")
     static LibDivideS64BranchFree libdivide_s64_branchfree_gen_ref(@NativeType("int64_t") long denom, @NativeType("struct libdivide_s64_branchfree_t") LibDivideS64BranchFree __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_s64_branchfree_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
         return __result;
     }
 
@@ -127,7 +143,9 @@ public class LibDivide {
 
     @NativeType("struct libdivide_u64_branchfree_t")
     static LibDivideU64BranchFree libdivide_u64_branchfree_gen_ref(@NativeType("uint64_t") long denom, @NativeType("struct libdivide_u64_branchfree_t") LibDivideU64BranchFree __result) {
+        long __start = FunctionProfiler.start();
         nlibdivide_u64_branchfree_gen_ref(denom, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
         return __result;
     }
 
@@ -137,7 +155,8 @@ public class LibDivide {
 
     @NativeType("int32_t")
     static int libdivide_s32_do_ref(@NativeType("int32_t") int numer, @NativeType("struct libdivide_s32_t const *") LibDivideS32 denom) {
-        return nlibdivide_s32_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nlibdivide_s32_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_u32_do_ref ] ---
@@ -146,7 +165,8 @@ public class LibDivide {
 
     @NativeType("uint32_t")
     static int libdivide_u32_do_ref(@NativeType("uint32_t") int numer, @NativeType("struct libdivide_u32_t const *") LibDivideU32 denom) {
-        return nlibdivide_u32_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nlibdivide_u32_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_s64_do_ref ] ---
@@ -155,7 +175,8 @@ public class LibDivide {
 
     @NativeType("int64_t")
     static long libdivide_s64_do_ref(@NativeType("int64_t") long numer, @NativeType("struct libdivide_s64_t const *") LibDivideS64 denom) {
-        return nlibdivide_s64_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nlibdivide_s64_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_u64_do_ref ] ---
@@ -164,7 +185,8 @@ public class LibDivide {
 
     @NativeType("uint64_t")
     static long libdivide_u64_do_ref(@NativeType("uint64_t") long numer, @NativeType("struct libdivide_u64_t const *") LibDivideU64 denom) {
-        return nlibdivide_u64_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nlibdivide_u64_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_s32_branchfree_do_ref ] ---
@@ -173,7 +195,8 @@ public class LibDivide {
 
     @NativeType("int32_t")
     static int libdivide_s32_branchfree_do_ref(@NativeType("int32_t") int numer, @NativeType("struct libdivide_s32_branchfree_t const *") LibDivideS32BranchFree denom) {
-        return nlibdivide_s32_branchfree_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nlibdivide_s32_branchfree_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_u32_branchfree_do_ref ] ---
@@ -182,7 +205,8 @@ public class LibDivide {
 
     @NativeType("uint32_t")
     static int libdivide_u32_branchfree_do_ref(@NativeType("uint32_t") int numer, @NativeType("struct libdivide_u32_branchfree_t const *") LibDivideU32BranchFree denom) {
-        return nlibdivide_u32_branchfree_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nlibdivide_u32_branchfree_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_s64_branchfree_do_ref ] ---
@@ -191,7 +215,8 @@ public class LibDivide {
 
     @NativeType("int64_t")
     static long libdivide_s64_branchfree_do_ref(@NativeType("int64_t") long numer, @NativeType("struct libdivide_s64_branchfree_t const *") LibDivideS64BranchFree denom) {
-        return nlibdivide_s64_branchfree_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nlibdivide_s64_branchfree_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_u64_branchfree_do_ref ] ---
@@ -200,7 +225,8 @@ public class LibDivide {
 
     @NativeType("uint64_t")
     static long libdivide_u64_branchfree_do_ref(@NativeType("uint64_t") long numer, @NativeType("struct libdivide_u64_branchfree_t const *") LibDivideU64BranchFree denom) {
-        return nlibdivide_u64_branchfree_do_ref(numer, denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nlibdivide_u64_branchfree_do_ref(numer, denom.address()));
     }
 
     // --- [ libdivide_s32_recover ] ---
@@ -209,7 +235,8 @@ public class LibDivide {
 
     @NativeType("int32_t")
     public static int libdivide_s32_recover(@NativeType("struct libdivide_s32_t const *") LibDivideS32 denom) {
-        return nlibdivide_s32_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nlibdivide_s32_recover(denom.address()));
     }
 
     // --- [ libdivide_u32_recover ] ---
@@ -218,7 +245,8 @@ public class LibDivide {
 
     @NativeType("uint32_t")
     public static int libdivide_u32_recover(@NativeType("struct libdivide_u32_t const *") LibDivideU32 denom) {
-        return nlibdivide_u32_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nlibdivide_u32_recover(denom.address()));
     }
 
     // --- [ libdivide_s64_recover ] ---
@@ -227,7 +255,8 @@ public class LibDivide {
 
     @NativeType("int64_t")
     public static long libdivide_s64_recover(@NativeType("struct libdivide_s64_t const *") LibDivideS64 denom) {
-        return nlibdivide_s64_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nlibdivide_s64_recover(denom.address()));
     }
 
     // --- [ libdivide_u64_recover ] ---
@@ -236,7 +265,8 @@ public class LibDivide {
 
     @NativeType("uint64_t")
     public static long libdivide_u64_recover(@NativeType("struct libdivide_u64_t const *") LibDivideU64 denom) {
-        return nlibdivide_u64_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nlibdivide_u64_recover(denom.address()));
     }
 
     // --- [ libdivide_s32_branchfree_recover ] ---
@@ -245,7 +275,8 @@ public class LibDivide {
 
     @NativeType("int32_t")
     public static int libdivide_s32_branchfree_recover(@NativeType("struct libdivide_s32_branchfree_t const *") LibDivideS32BranchFree denom) {
-        return nlibdivide_s32_branchfree_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nlibdivide_s32_branchfree_recover(denom.address()));
     }
 
     // --- [ libdivide_u32_branchfree_recover ] ---
@@ -254,7 +285,8 @@ public class LibDivide {
 
     @NativeType("uint32_t")
     public static int libdivide_u32_branchfree_recover(@NativeType("struct libdivide_u32_branchfree_t const *") LibDivideU32BranchFree denom) {
-        return nlibdivide_u32_branchfree_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nlibdivide_u32_branchfree_recover(denom.address()));
     }
 
     // --- [ libdivide_s64_branchfree_recover ] ---
@@ -263,7 +295,8 @@ public class LibDivide {
 
     @NativeType("int64_t")
     public static long libdivide_s64_branchfree_recover(@NativeType("struct libdivide_s64_branchfree_t const *") LibDivideS64BranchFree denom) {
-        return nlibdivide_s64_branchfree_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nlibdivide_s64_branchfree_recover(denom.address()));
     }
 
     // --- [ libdivide_u64_branchfree_recover ] ---
@@ -272,7 +305,8 @@ public class LibDivide {
 
     @NativeType("uint64_t")
     public static long libdivide_u64_branchfree_recover(@NativeType("struct libdivide_u64_branchfree_t const *") LibDivideU64BranchFree denom) {
-        return nlibdivide_u64_branchfree_recover(denom.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nlibdivide_u64_branchfree_recover(denom.address()));
     }
 
     @NativeType("struct libdivide_s32_t")
@@ -202,6 +202,24 @@ public class LibDivideS32 extends Struct implements NativeResource {
         return wrap(LibDivideS32.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LibDivideS32} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideS32 malloc(MemoryArena arena) {
+        return wrap(LibDivideS32.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LibDivideS32} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideS32 calloc(MemoryArena arena) {
+        return wrap(LibDivideS32.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LibDivideS32.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class LibDivideS32 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LibDivideS32.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideS32.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LibDivideS32.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideS32.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #magic}. */
@@ -302,6 +340,24 @@ public class LibDivideS32 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code more} field. */
         public LibDivideS32.Buffer more(@NativeType("uint8_t") byte value) { LibDivideS32.nmore(address(), value); return this; }
 
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified array. */
+        public LibDivideS32.Buffer getMagic(int[] dst) { gather(LibDivideS32.MAGIC, dst); return this; }
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideS32.Buffer getMagic(IntBuffer dst) { gather(LibDivideS32.MAGIC, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified array. */
+        public LibDivideS32.Buffer getMore(byte[] dst) { gather(LibDivideS32.MORE, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideS32.Buffer getMore(ByteBuffer dst) { gather(LibDivideS32.MORE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideS32.Buffer putMagic(int[] src) { scatter(LibDivideS32.MAGIC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideS32.Buffer putMagic(IntBuffer src) { scatter(LibDivideS32.MAGIC, src); return this; }
+        /** Copies the values in the specified array to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideS32.Buffer putMore(byte[] src) { scatter(LibDivideS32.MORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideS32.Buffer putMore(ByteBuffer src) { scatter(LibDivideS32.MORE, src); return this; }
+
     }
 
 }
\ No newline at end of file
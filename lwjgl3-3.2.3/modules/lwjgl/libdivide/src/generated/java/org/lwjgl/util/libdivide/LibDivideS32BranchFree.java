@@ -202,6 +202,24 @@ public class LibDivideS32BranchFree extends Struct implements NativeResource {
         return wrap(LibDivideS32BranchFree.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LibDivideS32BranchFree} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideS32BranchFree malloc(MemoryArena arena) {
+        return wrap(LibDivideS32BranchFree.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LibDivideS32BranchFree} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideS32BranchFree calloc(MemoryArena arena) {
+        return wrap(LibDivideS32BranchFree.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LibDivideS32BranchFree.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class LibDivideS32BranchFree extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LibDivideS32BranchFree.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideS32BranchFree.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LibDivideS32BranchFree.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideS32BranchFree.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #magic}. */
@@ -302,6 +340,24 @@ public class LibDivideS32BranchFree extends Struct implements NativeResource {
         /** Sets the specified value to the {@code more} field. */
         public LibDivideS32BranchFree.Buffer more(@NativeType("uint8_t") byte value) { LibDivideS32BranchFree.nmore(address(), value); return this; }
 
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified array. */
+        public LibDivideS32BranchFree.Buffer getMagic(int[] dst) { gather(LibDivideS32BranchFree.MAGIC, dst); return this; }
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideS32BranchFree.Buffer getMagic(IntBuffer dst) { gather(LibDivideS32BranchFree.MAGIC, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified array. */
+        public LibDivideS32BranchFree.Buffer getMore(byte[] dst) { gather(LibDivideS32BranchFree.MORE, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideS32BranchFree.Buffer getMore(ByteBuffer dst) { gather(LibDivideS32BranchFree.MORE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideS32BranchFree.Buffer putMagic(int[] src) { scatter(LibDivideS32BranchFree.MAGIC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideS32BranchFree.Buffer putMagic(IntBuffer src) { scatter(LibDivideS32BranchFree.MAGIC, src); return this; }
+        /** Copies the values in the specified array to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideS32BranchFree.Buffer putMore(byte[] src) { scatter(LibDivideS32BranchFree.MORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideS32BranchFree.Buffer putMore(ByteBuffer src) { scatter(LibDivideS32BranchFree.MORE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -202,6 +202,24 @@ public class LibDivideU32 extends Struct implements NativeResource {
         return wrap(LibDivideU32.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LibDivideU32} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideU32 malloc(MemoryArena arena) {
+        return wrap(LibDivideU32.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LibDivideU32} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideU32 calloc(MemoryArena arena) {
+        return wrap(LibDivideU32.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LibDivideU32.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class LibDivideU32 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LibDivideU32.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideU32.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LibDivideU32.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideU32.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #magic}. */
@@ -302,6 +340,24 @@ public class LibDivideU32 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code more} field. */
         public LibDivideU32.Buffer more(@NativeType("uint8_t") byte value) { LibDivideU32.nmore(address(), value); return this; }
 
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified array. */
+        public LibDivideU32.Buffer getMagic(int[] dst) { gather(LibDivideU32.MAGIC, dst); return this; }
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideU32.Buffer getMagic(IntBuffer dst) { gather(LibDivideU32.MAGIC, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified array. */
+        public LibDivideU32.Buffer getMore(byte[] dst) { gather(LibDivideU32.MORE, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideU32.Buffer getMore(ByteBuffer dst) { gather(LibDivideU32.MORE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideU32.Buffer putMagic(int[] src) { scatter(LibDivideU32.MAGIC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideU32.Buffer putMagic(IntBuffer src) { scatter(LibDivideU32.MAGIC, src); return this; }
+        /** Copies the values in the specified array to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideU32.Buffer putMore(byte[] src) { scatter(LibDivideU32.MORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideU32.Buffer putMore(ByteBuffer src) { scatter(LibDivideU32.MORE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -202,6 +202,24 @@ public class LibDivideU64BranchFree extends Struct implements NativeResource {
         return wrap(LibDivideU64BranchFree.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LibDivideU64BranchFree} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideU64BranchFree malloc(MemoryArena arena) {
+        return wrap(LibDivideU64BranchFree.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LibDivideU64BranchFree} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LibDivideU64BranchFree calloc(MemoryArena arena) {
+        return wrap(LibDivideU64BranchFree.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LibDivideU64BranchFree.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class LibDivideU64BranchFree extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LibDivideU64BranchFree.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideU64BranchFree.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LibDivideU64BranchFree.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LibDivideU64BranchFree.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #magic}. */
@@ -302,6 +340,24 @@ public class LibDivideU64BranchFree extends Struct implements NativeResource {
         /** Sets the specified value to the {@code more} field. */
         public LibDivideU64BranchFree.Buffer more(@NativeType("uint8_t") byte value) { LibDivideU64BranchFree.nmore(address(), value); return this; }
 
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified array. */
+        public LibDivideU64BranchFree.Buffer getMagic(long[] dst) { gather(LibDivideU64BranchFree.MAGIC, dst); return this; }
+        /** Copies the {@code magic} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideU64BranchFree.Buffer getMagic(LongBuffer dst) { gather(LibDivideU64BranchFree.MAGIC, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified array. */
+        public LibDivideU64BranchFree.Buffer getMore(byte[] dst) { gather(LibDivideU64BranchFree.MORE, dst); return this; }
+        /** Copies the {@code more} field of the structs between the current position and limit to the specified buffer. */
+        public LibDivideU64BranchFree.Buffer getMore(ByteBuffer dst) { gather(LibDivideU64BranchFree.MORE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideU64BranchFree.Buffer putMagic(long[] src) { scatter(LibDivideU64BranchFree.MAGIC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code magic} field of the structs between the current position and limit. */
+        public LibDivideU64BranchFree.Buffer putMagic(LongBuffer src) { scatter(LibDivideU64BranchFree.MAGIC, src); return this; }
+        /** Copies the values in the specified array to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideU64BranchFree.Buffer putMore(byte[] src) { scatter(LibDivideU64BranchFree.MORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code more} field of the structs between the current position and limit. */
+        public LibDivideU64BranchFree.Buffer putMore(ByteBuffer src) { scatter(LibDivideU64BranchFree.MORE, src); return this; }
+
     }
 
 }
\ No newline at end of file
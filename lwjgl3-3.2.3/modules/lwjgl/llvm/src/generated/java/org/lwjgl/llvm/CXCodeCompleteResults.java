@@ -185,6 +185,24 @@ public class CXCodeCompleteResults extends Struct implements NativeResource {
         return wrap(CXCodeCompleteResults.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXCodeCompleteResults} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCodeCompleteResults malloc(MemoryArena arena) {
+        return wrap(CXCodeCompleteResults.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXCodeCompleteResults} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCodeCompleteResults calloc(MemoryArena arena) {
+        return wrap(CXCodeCompleteResults.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXCodeCompleteResults.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -223,6 +241,26 @@ public class CXCodeCompleteResults extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXCodeCompleteResults.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCodeCompleteResults.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXCodeCompleteResults.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCodeCompleteResults.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Results}. */
@@ -275,6 +313,11 @@ public class CXCodeCompleteResults extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int NumResults() { return CXCodeCompleteResults.nNumResults(address()); }
 
+        /** Copies the {@code NumResults} field of the structs between the current position and limit to the specified array. */
+        public CXCodeCompleteResults.Buffer getNumResults(int[] dst) { gather(CXCodeCompleteResults.NUMRESULTS, dst); return this; }
+        /** Copies the {@code NumResults} field of the structs between the current position and limit to the specified buffer. */
+        public CXCodeCompleteResults.Buffer getNumResults(IntBuffer dst) { gather(CXCodeCompleteResults.NUMRESULTS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
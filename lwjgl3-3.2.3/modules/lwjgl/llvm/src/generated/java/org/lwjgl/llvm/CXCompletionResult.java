@@ -186,6 +186,24 @@ public class CXCompletionResult extends Struct implements NativeResource {
         return wrap(CXCompletionResult.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXCompletionResult} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCompletionResult malloc(MemoryArena arena) {
+        return wrap(CXCompletionResult.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXCompletionResult} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCompletionResult calloc(MemoryArena arena) {
+        return wrap(CXCompletionResult.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXCompletionResult.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -224,6 +242,26 @@ public class CXCompletionResult extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXCompletionResult.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCompletionResult.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXCompletionResult.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCompletionResult.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #CursorKind}. */
@@ -276,6 +314,11 @@ public class CXCompletionResult extends Struct implements NativeResource {
         @NativeType("CXCompletionString")
         public long CompletionString() { return CXCompletionResult.nCompletionString(address()); }
 
+        /** Copies the {@code CursorKind} field of the structs between the current position and limit to the specified array. */
+        public CXCompletionResult.Buffer getCursorKind(int[] dst) { gather(CXCompletionResult.CURSORKIND, dst); return this; }
+        /** Copies the {@code CursorKind} field of the structs between the current position and limit to the specified buffer. */
+        public CXCompletionResult.Buffer getCursorKind(IntBuffer dst) { gather(CXCompletionResult.CURSORKIND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
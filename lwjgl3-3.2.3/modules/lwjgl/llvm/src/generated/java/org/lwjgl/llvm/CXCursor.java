@@ -193,6 +193,24 @@ public class CXCursor extends Struct implements NativeResource {
         return wrap(CXCursor.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXCursor} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCursor malloc(MemoryArena arena) {
+        return wrap(CXCursor.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXCursor} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCursor calloc(MemoryArena arena) {
+        return wrap(CXCursor.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXCursor.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -231,6 +249,26 @@ public class CXCursor extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXCursor.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCursor.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXCursor.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCursor.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #kind}. */
@@ -294,6 +332,15 @@ public class CXCursor extends Struct implements NativeResource {
         @NativeType("void const *")
         public long data(int index) { return CXCursor.ndata(address(), index); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXCursor.Buffer getKind(int[] dst) { gather(CXCursor.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXCursor.Buffer getKind(IntBuffer dst) { gather(CXCursor.KIND, dst); return this; }
+        /** Copies the {@code xdata} field of the structs between the current position and limit to the specified array. */
+        public CXCursor.Buffer getXdata(int[] dst) { gather(CXCursor.XDATA, dst); return this; }
+        /** Copies the {@code xdata} field of the structs between the current position and limit to the specified buffer. */
+        public CXCursor.Buffer getXdata(IntBuffer dst) { gather(CXCursor.XDATA, dst); return this; }
+
     }
 
 }
\ No newline at end of file
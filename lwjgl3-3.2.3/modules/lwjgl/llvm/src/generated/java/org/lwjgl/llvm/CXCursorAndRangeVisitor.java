@@ -186,6 +186,24 @@ public class CXCursorAndRangeVisitor extends Struct implements NativeResource {
         return wrap(CXCursorAndRangeVisitor.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXCursorAndRangeVisitor} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCursorAndRangeVisitor malloc(MemoryArena arena) {
+        return wrap(CXCursorAndRangeVisitor.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXCursorAndRangeVisitor} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXCursorAndRangeVisitor calloc(MemoryArena arena) {
+        return wrap(CXCursorAndRangeVisitor.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXCursorAndRangeVisitor.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -224,6 +242,26 @@ public class CXCursorAndRangeVisitor extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXCursorAndRangeVisitor.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCursorAndRangeVisitor.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXCursorAndRangeVisitor.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXCursorAndRangeVisitor.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #visit}. */
@@ -178,6 +178,24 @@ public class CXIdxAttrInfo extends Struct implements NativeResource {
         return wrap(CXIdxAttrInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXIdxAttrInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxAttrInfo malloc(MemoryArena arena) {
+        return wrap(CXIdxAttrInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXIdxAttrInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxAttrInfo calloc(MemoryArena arena) {
+        return wrap(CXIdxAttrInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXIdxAttrInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -216,6 +234,26 @@ public class CXIdxAttrInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXIdxAttrInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxAttrInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXIdxAttrInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxAttrInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #kind}. */
@@ -271,6 +309,11 @@ public class CXIdxAttrInfo extends Struct implements NativeResource {
         /** Returns a {@link CXIdxLoc} view of the {@code loc} field. */
         public CXIdxLoc loc() { return CXIdxAttrInfo.nloc(address()); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXIdxAttrInfo.Buffer getKind(int[] dst) { gather(CXIdxAttrInfo.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxAttrInfo.Buffer getKind(IntBuffer dst) { gather(CXIdxAttrInfo.KIND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -162,6 +162,11 @@ public class CXIdxCXXClassDeclInfo extends Struct {
         @NativeType("unsigned")
         public int numBases() { return CXIdxCXXClassDeclInfo.nnumBases(address()); }
 
+        /** Copies the {@code numBases} field of the structs between the current position and limit to the specified array. */
+        public CXIdxCXXClassDeclInfo.Buffer getNumBases(int[] dst) { gather(CXIdxCXXClassDeclInfo.NUMBASES, dst); return this; }
+        /** Copies the {@code numBases} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxCXXClassDeclInfo.Buffer getNumBases(IntBuffer dst) { gather(CXIdxCXXClassDeclInfo.NUMBASES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
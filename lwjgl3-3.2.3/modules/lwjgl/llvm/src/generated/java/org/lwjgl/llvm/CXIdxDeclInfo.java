@@ -255,6 +255,24 @@ public class CXIdxDeclInfo extends Struct implements NativeResource {
         return wrap(CXIdxDeclInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXIdxDeclInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxDeclInfo malloc(MemoryArena arena) {
+        return wrap(CXIdxDeclInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXIdxDeclInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxDeclInfo calloc(MemoryArena arena) {
+        return wrap(CXIdxDeclInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXIdxDeclInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -293,6 +311,26 @@ public class CXIdxDeclInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXIdxDeclInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxDeclInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXIdxDeclInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxDeclInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #entityInfo}. */
@@ -398,6 +436,15 @@ public class CXIdxDeclInfo extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int flags() { return CXIdxDeclInfo.nflags(address()); }
 
+        /** Copies the {@code numAttributes} field of the structs between the current position and limit to the specified array. */
+        public CXIdxDeclInfo.Buffer getNumAttributes(int[] dst) { gather(CXIdxDeclInfo.NUMATTRIBUTES, dst); return this; }
+        /** Copies the {@code numAttributes} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxDeclInfo.Buffer getNumAttributes(IntBuffer dst) { gather(CXIdxDeclInfo.NUMATTRIBUTES, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public CXIdxDeclInfo.Buffer getFlags(int[] dst) { gather(CXIdxDeclInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxDeclInfo.Buffer getFlags(IntBuffer dst) { gather(CXIdxDeclInfo.FLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -220,6 +220,24 @@ public class CXIdxEntityInfo extends Struct implements NativeResource {
         return wrap(CXIdxEntityInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXIdxEntityInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxEntityInfo malloc(MemoryArena arena) {
+        return wrap(CXIdxEntityInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXIdxEntityInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxEntityInfo calloc(MemoryArena arena) {
+        return wrap(CXIdxEntityInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXIdxEntityInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class CXIdxEntityInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXIdxEntityInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxEntityInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXIdxEntityInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxEntityInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #kind}. */
@@ -349,6 +387,23 @@ public class CXIdxEntityInfo extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int numAttributes() { return CXIdxEntityInfo.nnumAttributes(address()); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXIdxEntityInfo.Buffer getKind(int[] dst) { gather(CXIdxEntityInfo.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxEntityInfo.Buffer getKind(IntBuffer dst) { gather(CXIdxEntityInfo.KIND, dst); return this; }
+        /** Copies the {@code templateKind} field of the structs between the current position and limit to the specified array. */
+        public CXIdxEntityInfo.Buffer getTemplateKind(int[] dst) { gather(CXIdxEntityInfo.TEMPLATEKIND, dst); return this; }
+        /** Copies the {@code templateKind} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxEntityInfo.Buffer getTemplateKind(IntBuffer dst) { gather(CXIdxEntityInfo.TEMPLATEKIND, dst); return this; }
+        /** Copies the {@code lang} field of the structs between the current position and limit to the specified array. */
+        public CXIdxEntityInfo.Buffer getLang(int[] dst) { gather(CXIdxEntityInfo.LANG, dst); return this; }
+        /** Copies the {@code lang} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxEntityInfo.Buffer getLang(IntBuffer dst) { gather(CXIdxEntityInfo.LANG, dst); return this; }
+        /** Copies the {@code numAttributes} field of the structs between the current position and limit to the specified array. */
+        public CXIdxEntityInfo.Buffer getNumAttributes(int[] dst) { gather(CXIdxEntityInfo.NUMATTRIBUTES, dst); return this; }
+        /** Copies the {@code numAttributes} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxEntityInfo.Buffer getNumAttributes(IntBuffer dst) { gather(CXIdxEntityInfo.NUMATTRIBUTES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,15 @@ public class CXIdxEntityRefInfo extends Struct {
         @NativeType("CXSymbolRole")
         public int role() { return CXIdxEntityRefInfo.nrole(address()); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXIdxEntityRefInfo.Buffer getKind(int[] dst) { gather(CXIdxEntityRefInfo.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxEntityRefInfo.Buffer getKind(IntBuffer dst) { gather(CXIdxEntityRefInfo.KIND, dst); return this; }
+        /** Copies the {@code role} field of the structs between the current position and limit to the specified array. */
+        public CXIdxEntityRefInfo.Buffer getRole(int[] dst) { gather(CXIdxEntityRefInfo.ROLE, dst); return this; }
+        /** Copies the {@code role} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxEntityRefInfo.Buffer getRole(IntBuffer dst) { gather(CXIdxEntityRefInfo.ROLE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -179,6 +179,24 @@ public class CXIdxLoc extends Struct implements NativeResource {
         return wrap(CXIdxLoc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXIdxLoc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxLoc malloc(MemoryArena arena) {
+        return wrap(CXIdxLoc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXIdxLoc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXIdxLoc calloc(MemoryArena arena) {
+        return wrap(CXIdxLoc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXIdxLoc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -217,6 +235,26 @@ public class CXIdxLoc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXIdxLoc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxLoc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXIdxLoc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXIdxLoc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ptr_data}. */
@@ -276,6 +314,11 @@ public class CXIdxLoc extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int int_data() { return CXIdxLoc.nint_data(address()); }
 
+        /** Copies the {@code int_data} field of the structs between the current position and limit to the specified array. */
+        public CXIdxLoc.Buffer getInt_data(int[] dst) { gather(CXIdxLoc.INT_DATA, dst); return this; }
+        /** Copies the {@code int_data} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxLoc.Buffer getInt_data(IntBuffer dst) { gather(CXIdxLoc.INT_DATA, dst); return this; }
+
     }
 
 }
\ No newline at end of file
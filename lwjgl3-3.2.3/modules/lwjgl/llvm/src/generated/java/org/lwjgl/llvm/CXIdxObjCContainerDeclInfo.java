@@ -149,6 +149,11 @@ public class CXIdxObjCContainerDeclInfo extends Struct {
         @NativeType("CXIdxObjCContainerKind")
         public int kind() { return CXIdxObjCContainerDeclInfo.nkind(address()); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXIdxObjCContainerDeclInfo.Buffer getKind(int[] dst) { gather(CXIdxObjCContainerDeclInfo.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxObjCContainerDeclInfo.Buffer getKind(IntBuffer dst) { gather(CXIdxObjCContainerDeclInfo.KIND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -150,6 +150,11 @@ public class CXIdxObjCProtocolRefListInfo extends Struct {
         @NativeType("unsigned")
         public int numProtocols() { return CXIdxObjCProtocolRefListInfo.nnumProtocols(address()); }
 
+        /** Copies the {@code numProtocols} field of the structs between the current position and limit to the specified array. */
+        public CXIdxObjCProtocolRefListInfo.Buffer getNumProtocols(int[] dst) { gather(CXIdxObjCProtocolRefListInfo.NUMPROTOCOLS, dst); return this; }
+        /** Copies the {@code numProtocols} field of the structs between the current position and limit to the specified buffer. */
+        public CXIdxObjCProtocolRefListInfo.Buffer getNumProtocols(IntBuffer dst) { gather(CXIdxObjCProtocolRefListInfo.NUMPROTOCOLS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -211,6 +211,24 @@ public class CXPlatformAvailability extends Struct implements NativeResource {
         return wrap(CXPlatformAvailability.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXPlatformAvailability} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXPlatformAvailability malloc(MemoryArena arena) {
+        return wrap(CXPlatformAvailability.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXPlatformAvailability} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXPlatformAvailability calloc(MemoryArena arena) {
+        return wrap(CXPlatformAvailability.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXPlatformAvailability.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -249,6 +267,26 @@ public class CXPlatformAvailability extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXPlatformAvailability.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXPlatformAvailability.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXPlatformAvailability.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXPlatformAvailability.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Platform}. */
@@ -315,6 +353,11 @@ public class CXPlatformAvailability extends Struct implements NativeResource {
         /** Returns a {@link CXString} view of the {@code Message} field. */
         public CXString Message() { return CXPlatformAvailability.nMessage(address()); }
 
+        /** Copies the {@code Unavailable} field of the structs between the current position and limit to the specified array. */
+        public CXPlatformAvailability.Buffer getUnavailable(int[] dst) { gather(CXPlatformAvailability.UNAVAILABLE, dst); return this; }
+        /** Copies the {@code Unavailable} field of the structs between the current position and limit to the specified buffer. */
+        public CXPlatformAvailability.Buffer getUnavailable(IntBuffer dst) { gather(CXPlatformAvailability.UNAVAILABLE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
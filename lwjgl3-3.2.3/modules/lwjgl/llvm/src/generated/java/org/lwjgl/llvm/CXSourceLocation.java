@@ -181,6 +181,24 @@ public class CXSourceLocation extends Struct implements NativeResource {
         return wrap(CXSourceLocation.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXSourceLocation} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXSourceLocation malloc(MemoryArena arena) {
+        return wrap(CXSourceLocation.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXSourceLocation} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXSourceLocation calloc(MemoryArena arena) {
+        return wrap(CXSourceLocation.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXSourceLocation.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -219,6 +237,26 @@ public class CXSourceLocation extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXSourceLocation.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXSourceLocation.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXSourceLocation.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXSourceLocation.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ptr_data}. */
@@ -278,6 +316,11 @@ public class CXSourceLocation extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int int_data() { return CXSourceLocation.nint_data(address()); }
 
+        /** Copies the {@code int_data} field of the structs between the current position and limit to the specified array. */
+        public CXSourceLocation.Buffer getInt_data(int[] dst) { gather(CXSourceLocation.INT_DATA, dst); return this; }
+        /** Copies the {@code int_data} field of the structs between the current position and limit to the specified buffer. */
+        public CXSourceLocation.Buffer getInt_data(IntBuffer dst) { gather(CXSourceLocation.INT_DATA, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -188,6 +188,24 @@ public class CXSourceRange extends Struct implements NativeResource {
         return wrap(CXSourceRange.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXSourceRange} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXSourceRange malloc(MemoryArena arena) {
+        return wrap(CXSourceRange.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXSourceRange} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXSourceRange calloc(MemoryArena arena) {
+        return wrap(CXSourceRange.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXSourceRange.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -226,6 +244,26 @@ public class CXSourceRange extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXSourceRange.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXSourceRange.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXSourceRange.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXSourceRange.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ptr_data}. */
@@ -290,6 +328,15 @@ public class CXSourceRange extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int end_int_data() { return CXSourceRange.nend_int_data(address()); }
 
+        /** Copies the {@code begin_int_data} field of the structs between the current position and limit to the specified array. */
+        public CXSourceRange.Buffer getBegin_int_data(int[] dst) { gather(CXSourceRange.BEGIN_INT_DATA, dst); return this; }
+        /** Copies the {@code begin_int_data} field of the structs between the current position and limit to the specified buffer. */
+        public CXSourceRange.Buffer getBegin_int_data(IntBuffer dst) { gather(CXSourceRange.BEGIN_INT_DATA, dst); return this; }
+        /** Copies the {@code end_int_data} field of the structs between the current position and limit to the specified array. */
+        public CXSourceRange.Buffer getEnd_int_data(int[] dst) { gather(CXSourceRange.END_INT_DATA, dst); return this; }
+        /** Copies the {@code end_int_data} field of the structs between the current position and limit to the specified buffer. */
+        public CXSourceRange.Buffer getEnd_int_data(IntBuffer dst) { gather(CXSourceRange.END_INT_DATA, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -158,6 +158,11 @@ public class CXSourceRangeList extends Struct {
         @NativeType("CXSourceRange *")
         public CXSourceRange.Buffer ranges() { return CXSourceRangeList.nranges(address()); }
 
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified array. */
+        public CXSourceRangeList.Buffer getCount(int[] dst) { gather(CXSourceRangeList.COUNT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified buffer. */
+        public CXSourceRangeList.Buffer getCount(IntBuffer dst) { gather(CXSourceRangeList.COUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
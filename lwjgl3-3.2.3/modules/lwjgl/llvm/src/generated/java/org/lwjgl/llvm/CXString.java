@@ -182,6 +182,24 @@ public class CXString extends Struct implements NativeResource {
         return wrap(CXString.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXString} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXString malloc(MemoryArena arena) {
+        return wrap(CXString.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXString} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXString calloc(MemoryArena arena) {
+        return wrap(CXString.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXString.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -220,6 +238,26 @@ public class CXString extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXString.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXString.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXString.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXString.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data(int) data}. */
@@ -276,6 +314,11 @@ public class CXString extends Struct implements NativeResource {
         @NativeType("unsigned")
         public int private_flags() { return CXString.nprivate_flags(address()); }
 
+        /** Copies the {@code private_flags} field of the structs between the current position and limit to the specified array. */
+        public CXString.Buffer getPrivate_flags(int[] dst) { gather(CXString.PRIVATE_FLAGS, dst); return this; }
+        /** Copies the {@code private_flags} field of the structs between the current position and limit to the specified buffer. */
+        public CXString.Buffer getPrivate_flags(IntBuffer dst) { gather(CXString.PRIVATE_FLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -149,6 +149,11 @@ public class CXStringSet extends Struct {
         @NativeType("unsigned")
         public int Count() { return CXStringSet.nCount(address()); }
 
+        /** Copies the {@code Count} field of the structs between the current position and limit to the specified array. */
+        public CXStringSet.Buffer getCount(int[] dst) { gather(CXStringSet.COUNT, dst); return this; }
+        /** Copies the {@code Count} field of the structs between the current position and limit to the specified buffer. */
+        public CXStringSet.Buffer getCount(IntBuffer dst) { gather(CXStringSet.COUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -190,6 +190,24 @@ public class CXTUResourceUsage extends Struct implements NativeResource {
         return wrap(CXTUResourceUsage.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXTUResourceUsage} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXTUResourceUsage malloc(MemoryArena arena) {
+        return wrap(CXTUResourceUsage.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXTUResourceUsage} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXTUResourceUsage calloc(MemoryArena arena) {
+        return wrap(CXTUResourceUsage.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXTUResourceUsage.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -228,6 +246,26 @@ public class CXTUResourceUsage extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXTUResourceUsage.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXTUResourceUsage.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXTUResourceUsage.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXTUResourceUsage.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #data}. */
@@ -285,6 +323,11 @@ public class CXTUResourceUsage extends Struct implements NativeResource {
         @NativeType("CXTUResourceUsageEntry *")
         public CXTUResourceUsageEntry.Buffer entries() { return CXTUResourceUsage.nentries(address()); }
 
+        /** Copies the {@code numEntries} field of the structs between the current position and limit to the specified array. */
+        public CXTUResourceUsage.Buffer getNumEntries(int[] dst) { gather(CXTUResourceUsage.NUMENTRIES, dst); return this; }
+        /** Copies the {@code numEntries} field of the structs between the current position and limit to the specified buffer. */
+        public CXTUResourceUsage.Buffer getNumEntries(IntBuffer dst) { gather(CXTUResourceUsage.NUMENTRIES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -156,6 +156,11 @@ public class CXTUResourceUsageEntry extends Struct {
         @NativeType("unsigned long")
         public long amount() { return CXTUResourceUsageEntry.namount(address()); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXTUResourceUsageEntry.Buffer getKind(int[] dst) { gather(CXTUResourceUsageEntry.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXTUResourceUsageEntry.Buffer getKind(IntBuffer dst) { gather(CXTUResourceUsageEntry.KIND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -179,6 +179,24 @@ public class CXType extends Struct implements NativeResource {
         return wrap(CXType.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CXType} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXType malloc(MemoryArena arena) {
+        return wrap(CXType.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CXType} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CXType calloc(MemoryArena arena) {
+        return wrap(CXType.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CXType.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -217,6 +235,26 @@ public class CXType extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CXType.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXType.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CXType.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CXType.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #kind}. */
@@ -276,6 +314,11 @@ public class CXType extends Struct implements NativeResource {
         @NativeType("void *")
         public long data(int index) { return CXType.ndata(address(), index); }
 
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified array. */
+        public CXType.Buffer getKind(int[] dst) { gather(CXType.KIND, dst); return this; }
+        /** Copies the {@code kind} field of the structs between the current position and limit to the specified buffer. */
+        public CXType.Buffer getKind(IntBuffer dst) { gather(CXType.KIND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
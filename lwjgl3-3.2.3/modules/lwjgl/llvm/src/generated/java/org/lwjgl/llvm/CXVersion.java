@@ -167,6 +167,19 @@ public class CXVersion extends Struct {
         /** Returns the value of the {@code Subminor} field. */
         public int Subminor() { return CXVersion.nSubminor(address()); }
 
+        /** Copies the {@code Major} field of the structs between the current position and limit to the specified array. */
+        public CXVersion.Buffer getMajor(int[] dst) { gather(CXVersion.MAJOR, dst); return this; }
+        /** Copies the {@code Major} field of the structs between the current position and limit to the specified buffer. */
+        public CXVersion.Buffer getMajor(IntBuffer dst) { gather(CXVersion.MAJOR, dst); return this; }
+        /** Copies the {@code Minor} field of the structs between the current position and limit to the specified array. */
+        public CXVersion.Buffer getMinor(int[] dst) { gather(CXVersion.MINOR, dst); return this; }
+        /** Copies the {@code Minor} field of the structs between the current position and limit to the specified buffer. */
+        public CXVersion.Buffer getMinor(IntBuffer dst) { gather(CXVersion.MINOR, dst); return this; }
+        /** Copies the {@code Subminor} field of the structs between the current position and limit to the specified array. */
+        public CXVersion.Buffer getSubminor(int[] dst) { gather(CXVersion.SUBMINOR, dst); return this; }
+        /** Copies the {@code Subminor} field of the structs between the current position and limit to the specified buffer. */
+        public CXVersion.Buffer getSubminor(IntBuffer dst) { gather(CXVersion.SUBMINOR, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class ClangBuildSystem {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ClangBuildSystem.class, "clang_getBuildSessionTimestamp,clang_VirtualFileOverlay_create,clang_VirtualFileOverlay_addFileMapping,clang_VirtualFileOverlay_setCaseSensitivity,clang_VirtualFileOverlay_writeToBuffer,clang_free,clang_VirtualFileOverlay_dispose,clang_ModuleMapDescriptor_create,clang_ModuleMapDescriptor_setFrameworkModuleName,clang_ModuleMapDescriptor_setUmbrellaHeader,clang_ModuleMapDescriptor_writeToBuffer,clang_ModuleMapDescriptor_dispose");
+
     protected ClangBuildSystem() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class ClangBuildSystem {
     @NativeType("unsigned long long")
     public static long clang_getBuildSessionTimestamp() {
         long __functionAddress = Functions.getBuildSessionTimestamp;
-        return invokeJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeJ(__functionAddress));
     }
 
     // --- [ clang_VirtualFileOverlay_create ] ---
@@ -64,7 +67,8 @@ public class ClangBuildSystem {
     @NativeType("CXVirtualFileOverlay")
     public static long clang_VirtualFileOverlay_create(@NativeType("unsigned int") int options) {
         long __functionAddress = Functions.VirtualFileOverlay_create;
-        return invokeP(options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokeP(options, __functionAddress));
     }
 
     // --- [ clang_VirtualFileOverlay_addFileMapping ] ---
@@ -75,7 +79,8 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(overlay);
         }
-        return invokePPPI(overlay, virtualPath, realPath, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPPI(overlay, virtualPath, realPath, __functionAddress));
     }
 
     /**
@@ -125,7 +130,8 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(overlay);
         }
-        return invokePI(overlay, caseSensitive, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePI(overlay, caseSensitive, __functionAddress));
     }
 
     // --- [ clang_VirtualFileOverlay_writeToBuffer ] ---
@@ -136,7 +142,8 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(overlay);
         }
-        return invokePPPI(overlay, options, out_buffer_ptr, out_buffer_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPI(overlay, options, out_buffer_ptr, out_buffer_size, __functionAddress));
     }
 
     /**
@@ -162,7 +169,9 @@ public class ClangBuildSystem {
     /** Unsafe version of: {@link #clang_free free} */
     public static void nclang_free(long buffer) {
         long __functionAddress = Functions.free;
+        long __start = FunctionProfiler.start();
         invokePV(buffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -182,7 +191,9 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(overlay);
         }
+        long __start = FunctionProfiler.start();
         invokePV(overlay, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ clang_ModuleMapDescriptor_create ] ---
@@ -195,7 +206,8 @@ public class ClangBuildSystem {
     @NativeType("CXModuleMapDescriptor")
     public static long clang_ModuleMapDescriptor_create(@NativeType("unsigned int") int options) {
         long __functionAddress = Functions.ModuleMapDescriptor_create;
-        return invokeP(options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokeP(options, __functionAddress));
     }
 
     // --- [ clang_ModuleMapDescriptor_setFrameworkModuleName ] ---
@@ -206,7 +218,8 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(descriptor);
         }
-        return invokePPI(descriptor, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPI(descriptor, name, __functionAddress));
     }
 
     /**
@@ -247,7 +260,8 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(descriptor);
         }
-        return invokePPI(descriptor, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPI(descriptor, name, __functionAddress));
     }
 
     /**
@@ -288,7 +302,8 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(descriptor);
         }
-        return invokePPPI(descriptor, options, out_buffer_ptr, out_buffer_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPI(descriptor, options, out_buffer_ptr, out_buffer_size, __functionAddress));
     }
 
     /**
@@ -317,7 +332,9 @@ public class ClangBuildSystem {
         if (CHECKS) {
             check(descriptor);
         }
+        long __start = FunctionProfiler.start();
         invokePV(descriptor, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
 }
\ No newline at end of file
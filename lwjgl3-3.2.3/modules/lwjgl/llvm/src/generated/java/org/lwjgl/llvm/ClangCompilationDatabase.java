@@ -33,6 +33,8 @@ public class ClangCompilationDatabase {
         CXCompilationDatabase_NoError            = 0,
         CXCompilationDatabase_CanNotLoadDatabase = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ClangCompilationDatabase.class, "clang_CompilationDatabase_fromDirectory,clang_CompilationDatabase_dispose,clang_CompilationDatabase_getCompileCommands,clang_CompilationDatabase_getAllCompileCommands,clang_CompileCommands_dispose,clang_CompileCommands_getSize,clang_CompileCommands_getCommand,clang_CompileCommand_getDirectory,clang_CompileCommand_getFilename,clang_CompileCommand_getNumArgs,clang_CompileCommand_getArg,clang_CompileCommand_getNumMappedSources,clang_CompileCommand_getMappedSourcePath,clang_CompileCommand_getMappedSourceContent");
+
     static { LibLLVM.initialize(); }
 
     protected ClangCompilationDatabase() {
@@ -68,7 +70,8 @@ public class ClangCompilationDatabase {
     /** Unsafe version of: {@link #clang_CompilationDatabase_fromDirectory CompilationDatabase_fromDirectory} */
     public static long nclang_CompilationDatabase_fromDirectory(long BuildDir, long ErrorCode) {
         long __functionAddress = Functions.CompilationDatabase_fromDirectory;
-        return invokePPP(BuildDir, ErrorCode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPP(BuildDir, ErrorCode, __functionAddress));
     }
 
     /**
@@ -115,7 +118,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(database);
         }
+        long __start = FunctionProfiler.start();
         invokePV(database, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ clang_CompilationDatabase_getCompileCommands ] ---
@@ -126,7 +131,8 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(database);
         }
-        return invokePPP(database, CompleteFileName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPP(database, CompleteFileName, __functionAddress));
     }
 
     /** Find the compile commands used for a file. The compile commands must be freed by {@code clang_CompileCommands_dispose}. */
@@ -160,7 +166,8 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(database);
         }
-        return invokePP(database, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(database, __functionAddress));
     }
 
     // --- [ clang_CompileCommands_dispose ] ---
@@ -171,7 +178,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(commands);
         }
+        long __start = FunctionProfiler.start();
         invokePV(commands, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ clang_CompileCommands_getSize ] ---
@@ -183,7 +192,8 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(commands);
         }
-        return invokePI(commands, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePI(commands, __functionAddress));
     }
 
     // --- [ clang_CompileCommands_getCommand ] ---
@@ -199,7 +209,8 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(commands);
         }
-        return invokePP(commands, I, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePP(commands, I, __functionAddress));
     }
 
     // --- [ clang_CompileCommand_getDirectory ] ---
@@ -213,7 +224,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
+        long __start = FunctionProfiler.start();
         nclang_CompileCommand_getDirectory(command, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Get the working directory where the CompileCommand was executed from */
@@ -233,7 +246,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
+        long __start = FunctionProfiler.start();
         nclang_CompileCommand_getFilename(command, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Get the filename associated with the CompileCommand. */
@@ -251,7 +266,8 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
-        return invokePI(command, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePI(command, __functionAddress));
     }
 
     // --- [ clang_CompileCommand_getArg ] ---
@@ -265,7 +281,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
+        long __start = FunctionProfiler.start();
         nclang_CompileCommand_getArg(command, I, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -291,7 +309,8 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
-        return invokePI(command, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePI(command, __functionAddress));
     }
 
     // --- [ clang_CompileCommand_getMappedSourcePath ] ---
@@ -305,7 +324,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
+        long __start = FunctionProfiler.start();
         nclang_CompileCommand_getMappedSourcePath(command, I, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Get the I'th mapped source path for the compiler invocation. */
@@ -325,7 +346,9 @@ public class ClangCompilationDatabase {
         if (CHECKS) {
             check(command);
         }
+        long __start = FunctionProfiler.start();
         nclang_CompileCommand_getMappedSourceContent(command, I, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Get the I'th mapped source content for the compiler invocation. */
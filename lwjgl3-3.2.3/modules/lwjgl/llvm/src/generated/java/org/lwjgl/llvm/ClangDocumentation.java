@@ -131,6 +131,8 @@ public class ClangDocumentation {
         CXCommentParamPassDirection_Out   = 1,
         CXCommentParamPassDirection_InOut = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ClangDocumentation.class, "clang_Cursor_getParsedComment,clang_Comment_getKind,clang_Comment_getNumChildren,clang_Comment_getChild,clang_Comment_isWhitespace,clang_InlineContentComment_hasTrailingNewline,clang_TextComment_getText,clang_InlineCommandComment_getCommandName,clang_InlineCommandComment_getRenderKind,clang_InlineCommandComment_getNumArgs,clang_InlineCommandComment_getArgText,clang_HTMLTagComment_getTagName,clang_HTMLStartTagComment_isSelfClosing,clang_HTMLStartTag_getNumAttrs,clang_HTMLStartTag_getAttrName,clang_HTMLStartTag_getAttrValue,clang_BlockCommandComment_getCommandName,clang_BlockCommandComment_getNumArgs,clang_BlockCommandComment_getArgText,clang_BlockCommandComment_getParagraph,clang_ParamCommandComment_getParamName,clang_ParamCommandComment_isParamIndexValid,clang_ParamCommandComment_getParamIndex,clang_ParamCommandComment_isDirectionExplicit,clang_ParamCommandComment_getDirection,clang_TParamCommandComment_getParamName,clang_TParamCommandComment_isParamPositionValid,clang_TParamCommandComment_getDepth,clang_TParamCommandComment_getIndex,clang_VerbatimBlockLineComment_getText,clang_VerbatimLineComment_getText,clang_HTMLTagComment_getAsString,clang_FullComment_getAsHTML,clang_FullComment_getAsXML");
+
     static { LibLLVM.initialize(); }
 
     protected ClangDocumentation() {
@@ -189,7 +191,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_Cursor_getParsedComment Cursor_getParsedComment} */
     public static void nclang_Cursor_getParsedComment(long C, long __result) {
         long __functionAddress = Functions.Cursor_getParsedComment;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getParsedComment(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Given a cursor that represents a documentable entity (e.g., declaration), return the associated parsed comment as a {@link #CXComment_FullComment Comment_FullComment} AST node. */
@@ -206,7 +210,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_Comment_getKind Comment_getKind} */
     public static int nclang_Comment_getKind(long Comment) {
         long __functionAddress = Functions.Comment_getKind;
-        return nclang_Comment_getKind(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nclang_Comment_getKind(Comment, __functionAddress));
     }
 
     /**
@@ -227,7 +232,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_Comment_getNumChildren Comment_getNumChildren} */
     public static int nclang_Comment_getNumChildren(long Comment) {
         long __functionAddress = Functions.Comment_getNumChildren;
-        return nclang_Comment_getNumChildren(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nclang_Comment_getNumChildren(Comment, __functionAddress));
     }
 
     /**
@@ -248,7 +254,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_Comment_getChild Comment_getChild} */
     public static void nclang_Comment_getChild(long Comment, int ChildIdx, long __result) {
         long __functionAddress = Functions.Comment_getChild;
+        long __start = FunctionProfiler.start();
         nclang_Comment_getChild(Comment, ChildIdx, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -269,7 +277,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_Comment_isWhitespace Comment_isWhitespace} */
     public static int nclang_Comment_isWhitespace(long Comment) {
         long __functionAddress = Functions.Comment_isWhitespace;
-        return nclang_Comment_isWhitespace(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nclang_Comment_isWhitespace(Comment, __functionAddress));
     }
 
     /**
@@ -292,7 +301,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_InlineContentComment_hasTrailingNewline InlineContentComment_hasTrailingNewline} */
     public static int nclang_InlineContentComment_hasTrailingNewline(long Comment) {
         long __functionAddress = Functions.InlineContentComment_hasTrailingNewline;
-        return nclang_InlineContentComment_hasTrailingNewline(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nclang_InlineContentComment_hasTrailingNewline(Comment, __functionAddress));
     }
 
     /** @return non-zero if {@code Comment} is inline content and has a newline immediately following it in the comment text. Newlines between paragraphs do not count. */
@@ -309,7 +319,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_TextComment_getText TextComment_getText} */
     public static void nclang_TextComment_getText(long Comment, long __result) {
         long __functionAddress = Functions.TextComment_getText;
+        long __start = FunctionProfiler.start();
         nclang_TextComment_getText(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -329,7 +341,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_InlineCommandComment_getCommandName InlineCommandComment_getCommandName} */
     public static void nclang_InlineCommandComment_getCommandName(long Comment, long __result) {
         long __functionAddress = Functions.InlineCommandComment_getCommandName;
+        long __start = FunctionProfiler.start();
         nclang_InlineCommandComment_getCommandName(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -349,7 +363,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_InlineCommandComment_getRenderKind InlineCommandComment_getRenderKind} */
     public static int nclang_InlineCommandComment_getRenderKind(long Comment) {
         long __functionAddress = Functions.InlineCommandComment_getRenderKind;
-        return nclang_InlineCommandComment_getRenderKind(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nclang_InlineCommandComment_getRenderKind(Comment, __functionAddress));
     }
 
     /**
@@ -370,7 +385,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_InlineCommandComment_getNumArgs InlineCommandComment_getNumArgs} */
     public static int nclang_InlineCommandComment_getNumArgs(long Comment) {
         long __functionAddress = Functions.InlineCommandComment_getNumArgs;
-        return nclang_InlineCommandComment_getNumArgs(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nclang_InlineCommandComment_getNumArgs(Comment, __functionAddress));
     }
 
     /**
@@ -391,7 +407,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_InlineCommandComment_getArgText InlineCommandComment_getArgText} */
     public static void nclang_InlineCommandComment_getArgText(long Comment, int ArgIdx, long __result) {
         long __functionAddress = Functions.InlineCommandComment_getArgText;
+        long __start = FunctionProfiler.start();
         nclang_InlineCommandComment_getArgText(Comment, ArgIdx, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -412,7 +430,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_HTMLTagComment_getTagName HTMLTagComment_getTagName} */
     public static void nclang_HTMLTagComment_getTagName(long Comment, long __result) {
         long __functionAddress = Functions.HTMLTagComment_getTagName;
+        long __start = FunctionProfiler.start();
         nclang_HTMLTagComment_getTagName(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -432,7 +452,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_HTMLStartTagComment_isSelfClosing HTMLStartTagComment_isSelfClosing} */
     public static int nclang_HTMLStartTagComment_isSelfClosing(long Comment) {
         long __functionAddress = Functions.HTMLStartTagComment_isSelfClosing;
-        return nclang_HTMLStartTagComment_isSelfClosing(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nclang_HTMLStartTagComment_isSelfClosing(Comment, __functionAddress));
     }
 
     /**
@@ -453,7 +474,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_HTMLStartTag_getNumAttrs HTMLStartTag_getNumAttrs} */
     public static int nclang_HTMLStartTag_getNumAttrs(long Comment) {
         long __functionAddress = Functions.HTMLStartTag_getNumAttrs;
-        return nclang_HTMLStartTag_getNumAttrs(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nclang_HTMLStartTag_getNumAttrs(Comment, __functionAddress));
     }
 
     /**
@@ -474,7 +496,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_HTMLStartTag_getAttrName HTMLStartTag_getAttrName} */
     public static void nclang_HTMLStartTag_getAttrName(long Comment, int AttrIdx, long __result) {
         long __functionAddress = Functions.HTMLStartTag_getAttrName;
+        long __start = FunctionProfiler.start();
         nclang_HTMLStartTag_getAttrName(Comment, AttrIdx, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -495,7 +519,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_HTMLStartTag_getAttrValue HTMLStartTag_getAttrValue} */
     public static void nclang_HTMLStartTag_getAttrValue(long Comment, int AttrIdx, long __result) {
         long __functionAddress = Functions.HTMLStartTag_getAttrValue;
+        long __start = FunctionProfiler.start();
         nclang_HTMLStartTag_getAttrValue(Comment, AttrIdx, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -516,7 +542,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_BlockCommandComment_getCommandName BlockCommandComment_getCommandName} */
     public static void nclang_BlockCommandComment_getCommandName(long Comment, long __result) {
         long __functionAddress = Functions.BlockCommandComment_getCommandName;
+        long __start = FunctionProfiler.start();
         nclang_BlockCommandComment_getCommandName(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -536,7 +564,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_BlockCommandComment_getNumArgs BlockCommandComment_getNumArgs} */
     public static int nclang_BlockCommandComment_getNumArgs(long Comment) {
         long __functionAddress = Functions.BlockCommandComment_getNumArgs;
-        return nclang_BlockCommandComment_getNumArgs(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nclang_BlockCommandComment_getNumArgs(Comment, __functionAddress));
     }
 
     /**
@@ -557,7 +586,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_BlockCommandComment_getArgText BlockCommandComment_getArgText} */
     public static void nclang_BlockCommandComment_getArgText(long Comment, int ArgIdx, long __result) {
         long __functionAddress = Functions.BlockCommandComment_getArgText;
+        long __start = FunctionProfiler.start();
         nclang_BlockCommandComment_getArgText(Comment, ArgIdx, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -578,7 +609,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_BlockCommandComment_getParagraph BlockCommandComment_getParagraph} */
     public static void nclang_BlockCommandComment_getParagraph(long Comment, long __result) {
         long __functionAddress = Functions.BlockCommandComment_getParagraph;
+        long __start = FunctionProfiler.start();
         nclang_BlockCommandComment_getParagraph(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -598,7 +631,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_ParamCommandComment_getParamName ParamCommandComment_getParamName} */
     public static void nclang_ParamCommandComment_getParamName(long Comment, long __result) {
         long __functionAddress = Functions.ParamCommandComment_getParamName;
+        long __start = FunctionProfiler.start();
         nclang_ParamCommandComment_getParamName(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -618,7 +653,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_ParamCommandComment_isParamIndexValid ParamCommandComment_isParamIndexValid} */
     public static int nclang_ParamCommandComment_isParamIndexValid(long Comment) {
         long __functionAddress = Functions.ParamCommandComment_isParamIndexValid;
-        return nclang_ParamCommandComment_isParamIndexValid(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nclang_ParamCommandComment_isParamIndexValid(Comment, __functionAddress));
     }
 
     /**
@@ -640,7 +676,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_ParamCommandComment_getParamIndex ParamCommandComment_getParamIndex} */
     public static int nclang_ParamCommandComment_getParamIndex(long Comment) {
         long __functionAddress = Functions.ParamCommandComment_getParamIndex;
-        return nclang_ParamCommandComment_getParamIndex(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nclang_ParamCommandComment_getParamIndex(Comment, __functionAddress));
     }
 
     /**
@@ -661,7 +698,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_ParamCommandComment_isDirectionExplicit ParamCommandComment_isDirectionExplicit} */
     public static int nclang_ParamCommandComment_isDirectionExplicit(long Comment) {
         long __functionAddress = Functions.ParamCommandComment_isDirectionExplicit;
-        return nclang_ParamCommandComment_isDirectionExplicit(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nclang_ParamCommandComment_isDirectionExplicit(Comment, __functionAddress));
     }
 
     /**
@@ -682,7 +720,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_ParamCommandComment_getDirection ParamCommandComment_getDirection} */
     public static int nclang_ParamCommandComment_getDirection(long Comment) {
         long __functionAddress = Functions.ParamCommandComment_getDirection;
-        return nclang_ParamCommandComment_getDirection(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nclang_ParamCommandComment_getDirection(Comment, __functionAddress));
     }
 
     /**
@@ -703,7 +742,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_TParamCommandComment_getParamName TParamCommandComment_getParamName} */
     public static void nclang_TParamCommandComment_getParamName(long Comment, long __result) {
         long __functionAddress = Functions.TParamCommandComment_getParamName;
+        long __start = FunctionProfiler.start();
         nclang_TParamCommandComment_getParamName(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -723,7 +764,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_TParamCommandComment_isParamPositionValid TParamCommandComment_isParamPositionValid} */
     public static int nclang_TParamCommandComment_isParamPositionValid(long Comment) {
         long __functionAddress = Functions.TParamCommandComment_isParamPositionValid;
-        return nclang_TParamCommandComment_isParamPositionValid(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nclang_TParamCommandComment_isParamPositionValid(Comment, __functionAddress));
     }
 
     /**
@@ -745,7 +787,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_TParamCommandComment_getDepth TParamCommandComment_getDepth} */
     public static int nclang_TParamCommandComment_getDepth(long Comment) {
         long __functionAddress = Functions.TParamCommandComment_getDepth;
-        return nclang_TParamCommandComment_getDepth(Comment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nclang_TParamCommandComment_getDepth(Comment, __functionAddress));
     }
 
     /**
@@ -774,7 +817,8 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_TParamCommandComment_getIndex TParamCommandComment_getIndex} */
     public static int nclang_TParamCommandComment_getIndex(long Comment, int Depth) {
         long __functionAddress = Functions.TParamCommandComment_getIndex;
-        return nclang_TParamCommandComment_getIndex(Comment, Depth, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nclang_TParamCommandComment_getIndex(Comment, Depth, __functionAddress));
     }
 
     /**
@@ -805,7 +849,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_VerbatimBlockLineComment_getText VerbatimBlockLineComment_getText} */
     public static void nclang_VerbatimBlockLineComment_getText(long Comment, long __result) {
         long __functionAddress = Functions.VerbatimBlockLineComment_getText;
+        long __start = FunctionProfiler.start();
         nclang_VerbatimBlockLineComment_getText(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -825,7 +871,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_VerbatimLineComment_getText VerbatimLineComment_getText} */
     public static void nclang_VerbatimLineComment_getText(long Comment, long __result) {
         long __functionAddress = Functions.VerbatimLineComment_getText;
+        long __start = FunctionProfiler.start();
         nclang_VerbatimLineComment_getText(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -845,7 +893,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_HTMLTagComment_getAsString HTMLTagComment_getAsString} */
     public static void nclang_HTMLTagComment_getAsString(long Comment, long __result) {
         long __functionAddress = Functions.HTMLTagComment_getAsString;
+        long __start = FunctionProfiler.start();
         nclang_HTMLTagComment_getAsString(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -867,7 +917,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_FullComment_getAsHTML FullComment_getAsHTML} */
     public static void nclang_FullComment_getAsHTML(long Comment, long __result) {
         long __functionAddress = Functions.FullComment_getAsHTML;
+        long __start = FunctionProfiler.start();
         nclang_FullComment_getAsHTML(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -916,7 +968,9 @@ public class ClangDocumentation {
     /** Unsafe version of: {@link #clang_FullComment_getAsXML FullComment_getAsXML} */
     public static void nclang_FullComment_getAsXML(long Comment, long __result) {
         long __functionAddress = Functions.FullComment_getAsXML;
+        long __start = FunctionProfiler.start();
         nclang_FullComment_getAsXML(Comment, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
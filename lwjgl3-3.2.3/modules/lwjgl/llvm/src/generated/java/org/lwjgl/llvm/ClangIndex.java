@@ -2305,6 +2305,8 @@ public class ClangIndex {
         CXIndexOpt_SuppressWarnings                    = 0x8,
         CXIndexOpt_SkipParsedBodiesInSession           = 0x10;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ClangIndex.class, "clang_getCString,clang_disposeString,clang_disposeStringSet,clang_createIndex,clang_disposeIndex,clang_CXIndex_setGlobalOptions,clang_CXIndex_getGlobalOptions,clang_CXIndex_setInvocationEmissionPathOption,clang_getFileName,clang_getFileTime,clang_getFileUniqueID,clang_isFileMultipleIncludeGuarded,clang_getFile,clang_getFileContents,clang_File_isEqual,clang_File_tryGetRealPathName,clang_getNullLocation,clang_equalLocations,clang_getLocation,clang_getLocationForOffset,clang_Location_isInSystemHeader,clang_Location_isFromMainFile,clang_getNullRange,clang_getRange,clang_equalRanges,clang_Range_isNull,clang_getExpansionLocation,clang_getPresumedLocation,clang_getSpellingLocation,clang_getFileLocation,clang_getRangeStart,clang_getRangeEnd,clang_getSkippedRanges,clang_getAllSkippedRanges,clang_disposeSourceRangeList,clang_getNumDiagnosticsInSet,clang_getDiagnosticInSet,clang_loadDiagnostics,clang_disposeDiagnosticSet,clang_getChildDiagnostics,clang_getNumDiagnostics,clang_getDiagnostic,clang_getDiagnosticSetFromTU,clang_disposeDiagnostic,clang_formatDiagnostic,clang_defaultDiagnosticDisplayOptions,clang_getDiagnosticSeverity,clang_getDiagnosticLocation,clang_getDiagnosticSpelling,clang_getDiagnosticOption,clang_getDiagnosticCategory,clang_getDiagnosticCategoryText,clang_getDiagnosticNumRanges,clang_getDiagnosticRange,clang_getDiagnosticNumFixIts,clang_getDiagnosticFixIt,clang_getTranslationUnitSpelling,clang_createTranslationUnitFromSourceFile,clang_createTranslationUnit,clang_createTranslationUnit2,clang_defaultEditingTranslationUnitOptions,clang_parseTranslationUnit,clang_parseTranslationUnit2,clang_parseTranslationUnit2FullArgv,clang_defaultSaveOptions,clang_saveTranslationUnit,clang_suspendTranslationUnit,clang_disposeTranslationUnit,clang_defaultReparseOptions,clang_reparseTranslationUnit,clang_getTUResourceUsageName,clang_getCXTUResourceUsage,clang_disposeCXTUResourceUsage,clang_getTranslationUnitTargetInfo,clang_TargetInfo_dispose,clang_TargetInfo_getTriple,clang_TargetInfo_getPointerWidth,clang_getNullCursor,clang_getTranslationUnitCursor,clang_equalCursors,clang_Cursor_isNull,clang_hashCursor,clang_getCursorKind,clang_isDeclaration,clang_isInvalidDeclaration,clang_isReference,clang_isExpression,clang_isStatement,clang_isAttribute,clang_Cursor_hasAttrs,clang_isInvalid,clang_isTranslationUnit,clang_isPreprocessing,clang_isUnexposed,clang_getCursorLinkage,clang_getCursorVisibility,clang_getCursorAvailability,clang_getCursorPlatformAvailability,clang_disposeCXPlatformAvailability,clang_getCursorLanguage,clang_getCursorTLSKind,clang_Cursor_getTranslationUnit,clang_createCXCursorSet,clang_disposeCXCursorSet,clang_CXCursorSet_contains,clang_CXCursorSet_insert,clang_getCursorSemanticParent,clang_getCursorLexicalParent,clang_getOverriddenCursors,clang_disposeOverriddenCursors,clang_getIncludedFile,clang_getCursor,clang_getCursorLocation,clang_getCursorExtent,clang_getCursorType,clang_getTypeSpelling,clang_getTypedefDeclUnderlyingType,clang_getEnumDeclIntegerType,clang_getEnumConstantDeclValue,clang_getEnumConstantDeclUnsignedValue,clang_getFieldDeclBitWidth,clang_Cursor_getNumArguments,clang_Cursor_getArgument,clang_Cursor_getNumTemplateArguments,clang_Cursor_getTemplateArgumentKind,clang_Cursor_getTemplateArgumentType,clang_Cursor_getTemplateArgumentValue,clang_Cursor_getTemplateArgumentUnsignedValue,clang_equalTypes,clang_getCanonicalType,clang_isConstQualifiedType,clang_Cursor_isMacroFunctionLike,clang_Cursor_isMacroBuiltin,clang_Cursor_isFunctionInlined,clang_isVolatileQualifiedType,clang_isRestrictQualifiedType,clang_getAddressSpace,clang_getTypedefName,clang_getPointeeType,clang_getTypeDeclaration,clang_getDeclObjCTypeEncoding,clang_Type_getObjCEncoding,clang_getTypeKindSpelling,clang_getFunctionTypeCallingConv,clang_getResultType,clang_getExceptionSpecificationType,clang_getNumArgTypes,clang_getArgType,clang_Type_getObjCObjectBaseType,clang_Type_getNumObjCProtocolRefs,clang_Type_getObjCProtocolDecl,clang_Type_getNumObjCTypeArgs,clang_Type_getObjCTypeArg,clang_isFunctionTypeVariadic,clang_getCursorResultType,clang_getCursorExceptionSpecificationType,clang_isPODType,clang_getElementType,clang_getNumElements,clang_getArrayElementType,clang_getArraySize,clang_Type_getNamedType,clang_Type_isTransparentTagTypedef,clang_Type_getNullability,clang_Type_getAlignOf,clang_Type_getClassType,clang_Type_getSizeOf,clang_Type_getOffsetOf,clang_Type_getModifiedType,clang_Cursor_getOffsetOfField,clang_Cursor_isAnonymous,clang_Type_getNumTemplateArguments,clang_Type_getTemplateArgumentAsType,clang_Type_getCXXRefQualifier,clang_Cursor_isBitField,clang_isVirtualBase,clang_getCXXAccessSpecifier,clang_Cursor_getStorageClass,clang_getNumOverloadedDecls,clang_getOverloadedDecl,clang_getIBOutletCollectionType,clang_visitChildren,clang_getCursorUSR,clang_constructUSR_ObjCClass,clang_constructUSR_ObjCCategory,clang_constructUSR_ObjCProtocol,clang_constructUSR_ObjCIvar,clang_constructUSR_ObjCMethod,clang_constructUSR_ObjCProperty,clang_getCursorSpelling,clang_Cursor_getSpellingNameRange,clang_PrintingPolicy_getProperty,clang_PrintingPolicy_setProperty,clang_getCursorPrintingPolicy,clang_PrintingPolicy_dispose,clang_getCursorPrettyPrinted,clang_getCursorDisplayName,clang_getCursorReferenced,clang_getCursorDefinition,clang_isCursorDefinition,clang_getCanonicalCursor,clang_Cursor_getObjCSelectorIndex,clang_Cursor_isDynamicCall,clang_Cursor_getReceiverType,clang_Cursor_getObjCPropertyAttributes,clang_Cursor_getObjCPropertyGetterName,clang_Cursor_getObjCPropertySetterName,clang_Cursor_getObjCDeclQualifiers,clang_Cursor_isObjCOptional,clang_Cursor_isVariadic,clang_Cursor_isExternalSymbol,clang_Cursor_getCommentRange,clang_Cursor_getRawCommentText,clang_Cursor_getBriefCommentText,clang_Cursor_getMangling,clang_Cursor_getCXXManglings,clang_Cursor_getObjCManglings,clang_Cursor_getModule,clang_getModuleForFile,clang_Module_getASTFile,clang_Module_getParent,clang_Module_getName,clang_Module_getFullName,clang_Module_isSystem,clang_Module_getNumTopLevelHeaders,clang_Module_getTopLevelHeader,clang_CXXConstructor_isConvertingConstructor,clang_CXXConstructor_isCopyConstructor,clang_CXXConstructor_isDefaultConstructor,clang_CXXConstructor_isMoveConstructor,clang_CXXField_isMutable,clang_CXXMethod_isDefaulted,clang_CXXMethod_isPureVirtual,clang_CXXMethod_isStatic,clang_CXXMethod_isVirtual,clang_CXXRecord_isAbstract,clang_EnumDecl_isScoped,clang_CXXMethod_isConst,clang_getTemplateCursorKind,clang_getSpecializedCursorTemplate,clang_getCursorReferenceNameRange,clang_getToken,clang_getTokenKind,clang_getTokenSpelling,clang_getTokenLocation,clang_getTokenExtent,clang_tokenize,clang_annotateTokens,clang_disposeTokens,clang_getCursorKindSpelling,clang_getDefinitionSpellingAndExtent,clang_enableStackTraces,clang_executeOnThread,clang_getCompletionChunkKind,clang_getCompletionChunkText,clang_getCompletionChunkCompletionString,clang_getNumCompletionChunks,clang_getCompletionPriority,clang_getCompletionAvailability,clang_getCompletionNumAnnotations,clang_getCompletionAnnotation,clang_getCompletionParent,clang_getCompletionBriefComment,clang_getCursorCompletionString,clang_getCompletionNumFixIts,clang_getCompletionFixIt,clang_defaultCodeCompleteOptions,clang_codeCompleteAt,clang_sortCodeCompletionResults,clang_disposeCodeCompleteResults,clang_codeCompleteGetNumDiagnostics,clang_codeCompleteGetDiagnostic,clang_codeCompleteGetContexts,clang_codeCompleteGetContainerKind,clang_codeCompleteGetContainerUSR,clang_codeCompleteGetObjCSelector,clang_getClangVersion,clang_toggleCrashRecovery,clang_getInclusions,clang_Cursor_Evaluate,clang_EvalResult_getKind,clang_EvalResult_getAsInt,clang_EvalResult_getAsLongLong,clang_EvalResult_isUnsignedInt,clang_EvalResult_getAsUnsigned,clang_EvalResult_getAsDouble,clang_EvalResult_getAsStr,clang_EvalResult_dispose,clang_getRemappings,clang_getRemappingsFromFileList,clang_remap_getNumFiles,clang_remap_getFilenames,clang_remap_dispose,clang_findReferencesInFile,clang_findIncludesInFile,clang_index_isEntityObjCContainerKind,clang_index_getObjCContainerDeclInfo,clang_index_getObjCInterfaceDeclInfo,clang_index_getObjCCategoryDeclInfo,clang_index_getObjCProtocolRefListInfo,clang_index_getObjCPropertyDeclInfo,clang_index_getIBOutletCollectionAttrInfo,clang_index_getCXXClassDeclInfo,clang_index_getClientContainer,clang_index_setClientContainer,clang_index_getClientEntity,clang_index_setClientEntity,clang_IndexAction_create,clang_IndexAction_dispose,clang_indexSourceFile,clang_indexSourceFileFullArgv,clang_indexTranslationUnit,clang_indexLoc_getFileLocation,clang_indexLoc_getCXSourceLocation,clang_Type_visitFields");
+
     static { LibLLVM.initialize(); }
 
     protected ClangIndex() {
@@ -2651,7 +2653,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCString getCString} */
     public static long nclang_getCString(long string) {
         long __functionAddress = Functions.getCString;
-        return nclang_getCString(string, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nclang_getCString(string, __functionAddress));
     }
 
     /** Retrieve the character data associated with the given string. */
@@ -2670,7 +2673,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_disposeString disposeString} */
     public static void nclang_disposeString(long string) {
         long __functionAddress = Functions.disposeString;
+        long __start = FunctionProfiler.start();
         nclang_disposeString(string, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Free the given string. */
@@ -2683,7 +2688,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_disposeStringSet disposeStringSet} */
     public static void nclang_disposeStringSet(long set) {
         long __functionAddress = Functions.disposeStringSet;
+        long __start = FunctionProfiler.start();
         invokePV(set, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Free the given string set. */
@@ -2734,7 +2741,8 @@ public class ClangIndex {
     @NativeType("CXIndex")
     public static long clang_createIndex(@NativeType("int") boolean excludeDeclarationsFromPCH, @NativeType("int") boolean displayDiagnostics) {
         long __functionAddress = Functions.createIndex;
-        return invokeP(excludeDeclarationsFromPCH ? 1 : 0, displayDiagnostics ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokeP(excludeDeclarationsFromPCH ? 1 : 0, displayDiagnostics ? 1 : 0, __functionAddress));
     }
 
     // --- [ clang_disposeIndex ] ---
@@ -2749,7 +2757,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(index);
         }
+        long __start = FunctionProfiler.start();
         invokePV(index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ clang_CXIndex_setGlobalOptions ] ---
@@ -2772,7 +2782,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(index);
         }
+        long __start = FunctionProfiler.start();
         invokePV(index, options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ clang_CXIndex_getGlobalOptions ] ---
@@ -2788,7 +2800,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(index);
         }
-        return invokePI(index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePI(index, __functionAddress));
     }
 
     // --- [ clang_CXIndex_setInvocationEmissionPathOption ] ---
@@ -2800,7 +2813,9 @@ public class ClangIndex {
             check(__functionAddress);
             check(index);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(index, Path, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -2844,7 +2859,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(SFile);
         }
+        long __start = FunctionProfiler.start();
         nclang_getFileName(SFile, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Retrieve the complete file and path name of the given file. */
@@ -2862,7 +2879,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(SFile);
         }
-        return invokePJ(SFile, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePJ(SFile, __functionAddress));
     }
 
     // --- [ clang_getFileUniqueID ] ---
@@ -2873,7 +2891,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(file);
         }
-        return invokePPI(file, outID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPI(file, outID, __functionAddress));
     }
 
     /**
@@ -2901,7 +2920,8 @@ public class ClangIndex {
             check(tu);
             check(file);
         }
-        return invokePPI(tu, file, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPI(tu, file, __functionAddress)) != 0;
     }
 
     // --- [ clang_getFile ] ---
@@ -2912,7 +2932,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(tu);
         }
-        return invokePPP(tu, file_name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPP(tu, file_name, __functionAddress));
     }
 
     /**
@@ -2965,7 +2986,8 @@ public class ClangIndex {
             check(tu);
             check(file);
         }
-        return invokePPPP(tu, file, size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPPP(tu, file, size, __functionAddress));
     }
 
     /**
@@ -2995,7 +3017,8 @@ public class ClangIndex {
     @NativeType("int")
     public static boolean clang_File_isEqual(@NativeType("CXFile") long file1, @NativeType("CXFile") long file2) {
         long __functionAddress = Functions.File_isEqual;
-        return invokePPI(file1, file2, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPI(file1, file2, __functionAddress)) != 0;
     }
 
     // --- [ clang_File_tryGetRealPathName ] ---
@@ -3010,7 +3033,9 @@ public class ClangIndex {
             check(__functionAddress);
             check(file);
         }
+        long __start = FunctionProfiler.start();
         nclang_File_tryGetRealPathName(file, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -3031,7 +3056,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getNullLocation getNullLocation} */
     public static void nclang_getNullLocation(long __result) {
         long __functionAddress = Functions.getNullLocation;
+        long __start = FunctionProfiler.start();
         nclang_getNullLocation(__functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Retrieve a {@code NULL} (invalid) source location. */
@@ -3048,7 +3075,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_equalLocations equalLocations} */
     public static int nclang_equalLocations(long loc1, long loc2) {
         long __functionAddress = Functions.equalLocations;
-        return nclang_equalLocations(loc1, loc2, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nclang_equalLocations(loc1, loc2, __functionAddress));
     }
 
     /**
@@ -3073,7 +3101,9 @@ public class ClangIndex {
             check(tu);
             check(file);
         }
+        long __start = FunctionProfiler.start();
         nclang_getLocation(tu, file, line, column, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Retrieves the source location associated with a given file/line/column in a particular translation unit. */
@@ -3094,7 +3124,9 @@ public class ClangIndex {
             check(tu);
             check(file);
         }
+        long __start = FunctionProfiler.start();
         nclang_getLocationForOffset(tu, file, offset, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Retrieves the source location associated with a given character offset in a particular translation unit. */
@@ -3111,7 +3143,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Location_isInSystemHeader Location_isInSystemHeader} */
     public static int nclang_Location_isInSystemHeader(long location) {
         long __functionAddress = Functions.Location_isInSystemHeader;
-        return nclang_Location_isInSystemHeader(location, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nclang_Location_isInSystemHeader(location, __functionAddress));
     }
 
     /** Returns non-zero if the given source location is in a system header. */
@@ -3128,7 +3161,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Location_isFromMainFile Location_isFromMainFile} */
     public static int nclang_Location_isFromMainFile(long location) {
         long __functionAddress = Functions.Location_isFromMainFile;
-        return nclang_Location_isFromMainFile(location, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nclang_Location_isFromMainFile(location, __functionAddress));
     }
 
     /** Returns non-zero if the given source location is in the main file of the corresponding translation unit. */
@@ -3145,7 +3179,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getNullRange getNullRange} */
     public static void nclang_getNullRange(long __result) {
         long __functionAddress = Functions.getNullRange;
+        long __start = FunctionProfiler.start();
         nclang_getNullRange(__functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Retrieve a {@code NULL} (invalid) source range. */
@@ -3162,7 +3198,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getRange getRange} */
     public static void nclang_getRange(long begin, long end, long __result) {
         long __functionAddress = Functions.getRange;
+        long __start = FunctionProfiler.start();
         nclang_getRange(begin, end, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Retrieve a source range given the beginning and ending source locations. */
@@ -3179,7 +3217,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_equalRanges equalRanges} */
     public static int nclang_equalRanges(long range1, long range2) {
         long __functionAddress = Functions.equalRanges;
-        return nclang_equalRanges(range1, range2, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nclang_equalRanges(range1, range2, __functionAddress));
     }
 
     /**
@@ -3200,7 +3239,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Range_isNull Range_isNull} */
     public static int nclang_Range_isNull(long range) {
         long __functionAddress = Functions.Range_isNull;
-        return nclang_Range_isNull(range, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nclang_Range_isNull(range, __functionAddress));
     }
 
     /** Returns non-zero if {@code range} is null. */
@@ -3217,7 +3257,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getExpansionLocation getExpansionLocation} */
     public static void nclang_getExpansionLocation(long location, long file, long line, long column, long offset) {
         long __functionAddress = Functions.getExpansionLocation;
+        long __start = FunctionProfiler.start();
         nclang_getExpansionLocation(location, file, line, column, offset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -3249,7 +3291,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getPresumedLocation getPresumedLocation} */
     public static void nclang_getPresumedLocation(long location, long filename, long line, long column) {
         long __functionAddress = Functions.getPresumedLocation;
+        long __start = FunctionProfiler.start();
         nclang_getPresumedLocation(location, filename, line, column, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -3298,7 +3342,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getSpellingLocation getSpellingLocation} */
     public static void nclang_getSpellingLocation(long location, long file, long line, long column, long offset) {
         long __functionAddress = Functions.getSpellingLocation;
+        long __start = FunctionProfiler.start();
         nclang_getSpellingLocation(location, file, line, column, offset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -3330,7 +3376,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getFileLocation getFileLocation} */
     public static void nclang_getFileLocation(long location, long file, long line, long column, long offset) {
         long __functionAddress = Functions.getFileLocation;
+        long __start = FunctionProfiler.start();
         nclang_getFileLocation(location, file, line, column, offset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -3363,7 +3411,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getRangeStart getRangeStart} */
     public static void nclang_getRangeStart(long range, long __result) {
         long __functionAddress = Functions.getRangeStart;
+        long __start = FunctionProfiler.start();
         nclang_getRangeStart(range, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Retrieve a source location representing the first character within a source range. */
@@ -3380,7 +3430,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getRangeEnd getRangeEnd} */
     public static void nclang_getRangeEnd(long range, long __result) {
         long __functionAddress = Functions.getRangeEnd;
+        long __start = FunctionProfiler.start();
         nclang_getRangeEnd(range, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Retrieve a source location representing the last character within a source range. */
@@ -3398,7 +3450,8 @@ public class ClangIndex {
             check(tu);
             check(file);
         }
-        return invokePPP(tu, file, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, invokePPP(tu, file, __functionAddress));
     }
 
     /**
@@ -3421,7 +3474,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(tu);
         }
-        return invokePP(tu, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePP(tu, __functionAddress));
     }
 
     /**
@@ -3441,7 +3495,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_disposeSourceRangeList disposeSourceRangeList} */
     public static void nclang_disposeSourceRangeList(long ranges) {
         long __functionAddress = Functions.disposeSourceRangeList;
+        long __start = FunctionProfiler.start();
         invokePV(ranges, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Destroy the given {@code CXSourceRangeList}. */
@@ -3458,7 +3514,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diags);
         }
-        return invokePI(Diags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePI(Diags, __functionAddress));
     }
 
     // --- [ clang_getDiagnosticInSet ] ---
@@ -3477,7 +3534,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diags);
         }
-        return invokePP(Diags, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, invokePP(Diags, Index, __functionAddress));
     }
 
     // --- [ clang_loadDiagnostics ] ---
@@ -3485,7 +3543,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_loadDiagnostics loadDiagnostics} */
     public static long nclang_loadDiagnostics(long file, long error, long errorString) {
         long __functionAddress = Functions.loadDiagnostics;
-        return invokePPPP(file, error, errorString, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, invokePPPP(file, error, errorString, __functionAddress));
     }
 
     /**
@@ -3538,7 +3597,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diags);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Diags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ clang_getChildDiagnostics ] ---
@@ -3554,7 +3615,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(D);
         }
-        return invokePP(D, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, invokePP(D, __functionAddress));
     }
 
     // --- [ clang_getNumDiagnostics ] ---
@@ -3566,7 +3628,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Unit);
         }
-        return invokePI(Unit, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokePI(Unit, __functionAddress));
     }
 
     // --- [ clang_getDiagnostic ] ---
@@ -3585,7 +3648,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Unit);
         }
-        return invokePP(Unit, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, invokePP(Unit, Index, __functionAddress));
     }
 
     // --- [ clang_getDiagnosticSetFromTU ] ---
@@ -3601,7 +3665,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Unit);
         }
-        return invokePP(Unit, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, invokePP(Unit, __functionAddress));
     }
 
     // --- [ clang_disposeDiagnostic ] ---
@@ -3612,7 +3677,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Diagnostic, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ clang_formatDiagnostic ] ---
@@ -3626,7 +3693,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         nclang_formatDiagnostic(Diagnostic, Options, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -3654,7 +3723,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static int clang_defaultDiagnosticDisplayOptions() {
         long __functionAddress = Functions.defaultDiagnosticDisplayOptions;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, invokeI(__functionAddress));
     }
 
     // --- [ clang_getDiagnosticSeverity ] ---
@@ -3666,7 +3736,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
-        return invokePI(Diagnostic, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, invokePI(Diagnostic, __functionAddress));
     }
 
     // --- [ clang_getDiagnosticLocation ] ---
@@ -3680,7 +3751,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         nclang_getDiagnosticLocation(Diagnostic, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -3704,7 +3777,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         nclang_getDiagnosticSpelling(Diagnostic, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /** Retrieve the text of the given diagnostic. */
@@ -3724,7 +3799,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diag);
         }
+        long __start = FunctionProfiler.start();
         nclang_getDiagnosticOption(Diag, Disable, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -3755,7 +3832,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
-        return invokePI(Diagnostic, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokePI(Diagnostic, __functionAddress));
     }
 
     // --- [ clang_getDiagnosticCategoryText ] ---
@@ -3769,7 +3847,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         nclang_getDiagnosticCategoryText(Diagnostic, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -3791,7 +3871,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
-        return invokePI(Diagnostic, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, invokePI(Diagnostic, __functionAddress));
     }
 
     // --- [ clang_getDiagnosticRange ] ---
@@ -3805,7 +3886,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         nclang_getDiagnosticRange(Diagnostic, Range, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -3832,7 +3915,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
-        return invokePI(Diagnostic, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, invokePI(Diagnostic, __functionAddress));
     }
 
     // --- [ clang_getDiagnosticFixIt ] ---
@@ -3846,7 +3930,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Diagnostic);
         }
+        long __start = FunctionProfiler.start();
         nclang_getDiagnosticFixIt(Diagnostic, FixIt, ReplacementRange, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -3879,7 +3965,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(CTUnit);
         }
+        long __start = FunctionProfiler.start();
         nclang_getTranslationUnitSpelling(CTUnit, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /** Get the original translation unit source file name. */
@@ -3902,7 +3990,8 @@ public class ClangIndex {
             check(CIdx);
             if (unsaved_files != NULL) { CXUnsavedFile.validate(unsaved_files, num_unsaved_files); }
         }
-        return invokePPPPP(CIdx, source_filename, num_clang_command_line_args, clang_command_line_args, num_unsaved_files, unsaved_files, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, invokePPPPP(CIdx, source_filename, num_clang_command_line_args, clang_command_line_args, num_unsaved_files, unsaved_files, __functionAddress));
     }
 
     /**
@@ -3981,7 +4070,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(CIdx);
         }
-        return invokePPP(CIdx, ast_filename, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePPP(CIdx, ast_filename, __functionAddress));
     }
 
     /**
@@ -4020,7 +4110,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(CIdx);
         }
-        return invokePPPI(CIdx, ast_filename, out_TU, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, invokePPPI(CIdx, ast_filename, out_TU, __functionAddress));
     }
 
     /**
@@ -4074,7 +4165,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static int clang_defaultEditingTranslationUnitOptions() {
         long __functionAddress = Functions.defaultEditingTranslationUnitOptions;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, invokeI(__functionAddress));
     }
 
     // --- [ clang_parseTranslationUnit ] ---
@@ -4086,7 +4178,8 @@ public class ClangIndex {
             check(CIdx);
             if (unsaved_files != NULL) { CXUnsavedFile.validate(unsaved_files, num_unsaved_files); }
         }
-        return invokePPPPP(CIdx, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, invokePPPPP(CIdx, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, options, __functionAddress));
     }
 
     /**
@@ -4131,7 +4224,8 @@ public class ClangIndex {
             check(CIdx);
             if (unsaved_files != NULL) { CXUnsavedFile.validate(unsaved_files, num_unsaved_files); }
         }
-        return invokePPPPPI(CIdx, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, options, out_TU, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, invokePPPPPI(CIdx, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, options, out_TU, __functionAddress));
     }
 
     /**
@@ -4210,7 +4304,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(CIdx);
         }
-        return invokePPPPPI(CIdx, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, options, out_TU, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, invokePPPPPI(CIdx, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, options, out_TU, __functionAddress));
     }
 
     /**
@@ -4259,7 +4354,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
-        return invokePI(TU, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, invokePI(TU, __functionAddress));
     }
 
     // --- [ clang_saveTranslationUnit ] ---
@@ -4270,7 +4366,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
-        return invokePPI(TU, FileName, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, invokePPI(TU, FileName, options, __functionAddress));
     }
 
     /**
@@ -4333,7 +4430,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
-        return invokePI(TU, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, invokePI(TU, __functionAddress)) != 0;
     }
 
     // --- [ clang_disposeTranslationUnit ] ---
@@ -4344,7 +4442,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         invokePV(TU, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ clang_defaultReparseOptions ] ---
@@ -4361,7 +4461,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
-        return invokePI(TU, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, invokePI(TU, __functionAddress));
     }
 
     // --- [ clang_reparseTranslationUnit ] ---
@@ -4377,7 +4478,8 @@ public class ClangIndex {
             check(TU);
             if (unsaved_files != NULL) { CXUnsavedFile.validate(unsaved_files, num_unsaved_files); }
         }
-        return invokePPI(TU, num_unsaved_files, unsaved_files, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, invokePPI(TU, num_unsaved_files, unsaved_files, options, __functionAddress));
     }
 
     /**
@@ -4412,7 +4514,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTUResourceUsageName getTUResourceUsageName} */
     public static long nclang_getTUResourceUsageName(int kind) {
         long __functionAddress = Functions.getTUResourceUsageName;
-        return invokeP(kind, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, invokeP(kind, __functionAddress));
     }
 
     /** Returns the human-readable null-terminated C string that represents the name of the memory category. This string should never be freed. */
@@ -4434,7 +4537,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCXTUResourceUsage(TU, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     /** Return the memory usage of a translation unit.  This object should be released with {@link #clang_disposeCXTUResourceUsage disposeCXTUResourceUsage}. */
@@ -4449,7 +4554,9 @@ public class ClangIndex {
 
     public static void nclang_disposeCXTUResourceUsage(long usage) {
         long __functionAddress = Functions.disposeCXTUResourceUsage;
+        long __start = FunctionProfiler.start();
         nclang_disposeCXTUResourceUsage(usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     public static void clang_disposeCXTUResourceUsage(CXTUResourceUsage usage) {
@@ -4469,7 +4576,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(CTUnit);
         }
-        return invokePP(CTUnit, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, invokePP(CTUnit, __functionAddress));
     }
 
     // --- [ clang_TargetInfo_dispose ] ---
@@ -4480,7 +4588,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Info);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Info, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     // --- [ clang_TargetInfo_getTriple ] ---
@@ -4494,7 +4604,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Info);
         }
+        long __start = FunctionProfiler.start();
         nclang_TargetInfo_getTriple(Info, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /**
@@ -4519,7 +4631,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Info);
         }
-        return invokePI(Info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, invokePI(Info, __functionAddress));
     }
 
     // --- [ clang_getNullCursor ] ---
@@ -4530,7 +4643,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getNullCursor getNullCursor} */
     public static void nclang_getNullCursor(long __result) {
         long __functionAddress = Functions.getNullCursor;
+        long __start = FunctionProfiler.start();
         nclang_getNullCursor(__functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     /** Retrieve the {@code NULL} cursor, which represents no entity. */
@@ -4550,7 +4665,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_getTranslationUnitCursor(TU, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     /**
@@ -4571,7 +4688,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_equalCursors equalCursors} */
     public static int nclang_equalCursors(long A, long B) {
         long __functionAddress = Functions.equalCursors;
-        return nclang_equalCursors(A, B, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, nclang_equalCursors(A, B, __functionAddress));
     }
 
     /** Determine whether two cursors are equivalent. */
@@ -4588,7 +4706,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isNull Cursor_isNull} */
     public static int nclang_Cursor_isNull(long cursor) {
         long __functionAddress = Functions.Cursor_isNull;
-        return nclang_Cursor_isNull(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, nclang_Cursor_isNull(cursor, __functionAddress));
     }
 
     /** Returns non-zero if {@code cursor} is null. */
@@ -4605,7 +4724,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_hashCursor hashCursor} */
     public static int nclang_hashCursor(long cursor) {
         long __functionAddress = Functions.hashCursor;
-        return nclang_hashCursor(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 81, __start, nclang_hashCursor(cursor, __functionAddress));
     }
 
     /** Compute a hash value for the given cursor. */
@@ -4622,7 +4742,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorKind getCursorKind} */
     public static int nclang_getCursorKind(long cursor) {
         long __functionAddress = Functions.getCursorKind;
-        return nclang_getCursorKind(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, nclang_getCursorKind(cursor, __functionAddress));
     }
 
     /** Retrieve the kind of the given cursor. */
@@ -4637,7 +4758,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isDeclaration(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isDeclaration;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 83, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isInvalidDeclaration ] ---
@@ -4651,7 +4773,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_isInvalidDeclaration(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 84, __start, nclang_isInvalidDeclaration(cursor, __functionAddress));
     }
 
     /**
@@ -4677,7 +4800,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isReference(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isReference;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 85, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isExpression ] ---
@@ -4686,7 +4810,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isExpression(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isExpression;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 86, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isStatement ] ---
@@ -4695,7 +4820,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isStatement(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isStatement;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 87, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isAttribute ] ---
@@ -4704,7 +4830,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isAttribute(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isAttribute;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 88, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_Cursor_hasAttrs ] ---
@@ -4715,7 +4842,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_hasAttrs Cursor_hasAttrs} */
     public static int nclang_Cursor_hasAttrs(long C) {
         long __functionAddress = Functions.Cursor_hasAttrs;
-        return nclang_Cursor_hasAttrs(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, nclang_Cursor_hasAttrs(C, __functionAddress));
     }
 
     /** Determine whether the given cursor has any attributes. */
@@ -4730,7 +4858,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isInvalid(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isInvalid;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isTranslationUnit ] ---
@@ -4739,7 +4868,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isTranslationUnit(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isTranslationUnit;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isPreprocessing ] ---
@@ -4748,7 +4878,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isPreprocessing(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isPreprocessing;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 92, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_isUnexposed ] ---
@@ -4757,7 +4888,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static boolean clang_isUnexposed(@NativeType("enum CXCursorKind") int kind) {
         long __functionAddress = Functions.isUnexposed;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_getCursorLinkage ] ---
@@ -4768,7 +4900,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorLinkage getCursorLinkage} */
     public static int nclang_getCursorLinkage(long cursor) {
         long __functionAddress = Functions.getCursorLinkage;
-        return nclang_getCursorLinkage(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 94, __start, nclang_getCursorLinkage(cursor, __functionAddress));
     }
 
     /** Determine the linkage of the entity referred to by a given cursor. */
@@ -4785,7 +4918,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorVisibility getCursorVisibility} */
     public static int nclang_getCursorVisibility(long cursor) {
         long __functionAddress = Functions.getCursorVisibility;
-        return nclang_getCursorVisibility(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 95, __start, nclang_getCursorVisibility(cursor, __functionAddress));
     }
 
     /**
@@ -4811,7 +4945,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorAvailability getCursorAvailability} */
     public static int nclang_getCursorAvailability(long cursor) {
         long __functionAddress = Functions.getCursorAvailability;
-        return nclang_getCursorAvailability(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 96, __start, nclang_getCursorAvailability(cursor, __functionAddress));
     }
 
     /**
@@ -4842,7 +4977,8 @@ public class ClangIndex {
      */
     public static int nclang_getCursorPlatformAvailability(long cursor, long always_deprecated, long deprecated_message, long always_unavailable, long unavailable_message, long availability, int availability_size) {
         long __functionAddress = Functions.getCursorPlatformAvailability;
-        return nclang_getCursorPlatformAvailability(cursor, always_deprecated, deprecated_message, always_unavailable, unavailable_message, availability, availability_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 97, __start, nclang_getCursorPlatformAvailability(cursor, always_deprecated, deprecated_message, always_unavailable, unavailable_message, availability, availability_size, __functionAddress));
     }
 
     /**
@@ -4878,7 +5014,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_disposeCXPlatformAvailability disposeCXPlatformAvailability} */
     public static void nclang_disposeCXPlatformAvailability(long availability) {
         long __functionAddress = Functions.disposeCXPlatformAvailability;
+        long __start = FunctionProfiler.start();
         invokePV(availability, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     /** Free the memory associated with a {@code CXPlatformAvailability} structure. */
@@ -4894,7 +5032,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorLanguage getCursorLanguage} */
     public static int nclang_getCursorLanguage(long cursor) {
         long __functionAddress = Functions.getCursorLanguage;
-        return nclang_getCursorLanguage(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 99, __start, nclang_getCursorLanguage(cursor, __functionAddress));
     }
 
     /** Determine the "language" of the entity referred to by a given cursor. */
@@ -4914,7 +5053,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_getCursorTLSKind(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 100, __start, nclang_getCursorTLSKind(cursor, __functionAddress));
     }
 
     /** Determine the "thread-local storage (TLS) kind" of the declaration referred to by a cursor. */
@@ -4931,7 +5071,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getTranslationUnit Cursor_getTranslationUnit} */
     public static long nclang_Cursor_getTranslationUnit(long cursor) {
         long __functionAddress = Functions.Cursor_getTranslationUnit;
-        return nclang_Cursor_getTranslationUnit(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 101, __start, nclang_Cursor_getTranslationUnit(cursor, __functionAddress));
     }
 
     /** Returns the translation unit that a cursor originated from. */
@@ -4946,7 +5087,8 @@ public class ClangIndex {
     @NativeType("CXCursorSet")
     public static long clang_createCXCursorSet() {
         long __functionAddress = Functions.createCXCursorSet;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 102, __start, invokeP(__functionAddress));
     }
 
     // --- [ clang_disposeCXCursorSet ] ---
@@ -4957,7 +5099,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(cset);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     // --- [ clang_CXCursorSet_contains ] ---
@@ -4971,7 +5115,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(cset);
         }
-        return nclang_CXCursorSet_contains(cset, cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, nclang_CXCursorSet_contains(cset, cursor, __functionAddress));
     }
 
     /**
@@ -4995,7 +5140,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(cset);
         }
-        return nclang_CXCursorSet_insert(cset, cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 105, __start, nclang_CXCursorSet_insert(cset, cursor, __functionAddress));
     }
 
     /**
@@ -5016,7 +5162,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorSemanticParent getCursorSemanticParent} */
     public static void nclang_getCursorSemanticParent(long cursor, long __result) {
         long __functionAddress = Functions.getCursorSemanticParent;
+        long __start = FunctionProfiler.start();
         nclang_getCursorSemanticParent(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     /**
@@ -5057,7 +5205,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorLexicalParent getCursorLexicalParent} */
     public static void nclang_getCursorLexicalParent(long cursor, long __result) {
         long __functionAddress = Functions.getCursorLexicalParent;
+        long __start = FunctionProfiler.start();
         nclang_getCursorLexicalParent(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     /**
@@ -5098,7 +5248,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getOverriddenCursors getOverriddenCursors} */
     public static void nclang_getOverriddenCursors(long cursor, long overridden, long num_overridden) {
         long __functionAddress = Functions.getOverriddenCursors;
+        long __start = FunctionProfiler.start();
         nclang_getOverriddenCursors(cursor, overridden, num_overridden, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     /**
@@ -5135,7 +5287,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_disposeOverriddenCursors disposeOverriddenCursors} */
     public static void nclang_disposeOverriddenCursors(long overridden) {
         long __functionAddress = Functions.disposeOverriddenCursors;
+        long __start = FunctionProfiler.start();
         invokePV(overridden, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     /** Free the set of overridden cursors returned by {@code clang_getOverriddenCursors()}. */
@@ -5151,7 +5305,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getIncludedFile getIncludedFile} */
     public static long nclang_getIncludedFile(long cursor) {
         long __functionAddress = Functions.getIncludedFile;
-        return nclang_getIncludedFile(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 110, __start, nclang_getIncludedFile(cursor, __functionAddress));
     }
 
     /** Retrieve the file that is included by the given inclusion directive cursor. */
@@ -5171,7 +5326,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCursor(TU, location, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     /**
@@ -5197,7 +5354,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorLocation getCursorLocation} */
     public static void nclang_getCursorLocation(long cursor, long __result) {
         long __functionAddress = Functions.getCursorLocation;
+        long __start = FunctionProfiler.start();
         nclang_getCursorLocation(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     /**
@@ -5220,7 +5379,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorExtent getCursorExtent} */
     public static void nclang_getCursorExtent(long cursor, long __result) {
         long __functionAddress = Functions.getCursorExtent;
+        long __start = FunctionProfiler.start();
         nclang_getCursorExtent(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -5243,7 +5404,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorType getCursorType} */
     public static void nclang_getCursorType(long C, long __result) {
         long __functionAddress = Functions.getCursorType;
+        long __start = FunctionProfiler.start();
         nclang_getCursorType(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     /** Retrieve the type of a {@code CXCursor} (if any). */
@@ -5260,7 +5423,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTypeSpelling getTypeSpelling} */
     public static void nclang_getTypeSpelling(long CT, long __result) {
         long __functionAddress = Functions.getTypeSpelling;
+        long __start = FunctionProfiler.start();
         nclang_getTypeSpelling(CT, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /**
@@ -5281,7 +5446,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTypedefDeclUnderlyingType getTypedefDeclUnderlyingType} */
     public static void nclang_getTypedefDeclUnderlyingType(long C, long __result) {
         long __functionAddress = Functions.getTypedefDeclUnderlyingType;
+        long __start = FunctionProfiler.start();
         nclang_getTypedefDeclUnderlyingType(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     /**
@@ -5302,7 +5469,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getEnumDeclIntegerType getEnumDeclIntegerType} */
     public static void nclang_getEnumDeclIntegerType(long C, long __result) {
         long __functionAddress = Functions.getEnumDeclIntegerType;
+        long __start = FunctionProfiler.start();
         nclang_getEnumDeclIntegerType(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /**
@@ -5323,7 +5492,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getEnumConstantDeclValue getEnumConstantDeclValue} */
     public static long nclang_getEnumConstantDeclValue(long C) {
         long __functionAddress = Functions.getEnumConstantDeclValue;
-        return nclang_getEnumConstantDeclValue(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 118, __start, nclang_getEnumConstantDeclValue(C, __functionAddress));
     }
 
     /**
@@ -5345,7 +5515,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getEnumConstantDeclUnsignedValue getEnumConstantDeclUnsignedValue} */
     public static long nclang_getEnumConstantDeclUnsignedValue(long C) {
         long __functionAddress = Functions.getEnumConstantDeclUnsignedValue;
-        return nclang_getEnumConstantDeclUnsignedValue(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 119, __start, nclang_getEnumConstantDeclUnsignedValue(C, __functionAddress));
     }
 
     /**
@@ -5367,7 +5538,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getFieldDeclBitWidth getFieldDeclBitWidth} */
     public static int nclang_getFieldDeclBitWidth(long C) {
         long __functionAddress = Functions.getFieldDeclBitWidth;
-        return nclang_getFieldDeclBitWidth(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 120, __start, nclang_getFieldDeclBitWidth(C, __functionAddress));
     }
 
     /**
@@ -5387,7 +5559,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getNumArguments Cursor_getNumArguments} */
     public static int nclang_Cursor_getNumArguments(long C) {
         long __functionAddress = Functions.Cursor_getNumArguments;
-        return nclang_Cursor_getNumArguments(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 121, __start, nclang_Cursor_getNumArguments(C, __functionAddress));
     }
 
     /**
@@ -5407,7 +5580,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getArgument Cursor_getArgument} */
     public static void nclang_Cursor_getArgument(long C, int i, long __result) {
         long __functionAddress = Functions.Cursor_getArgument;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getArgument(C, i, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     /**
@@ -5429,7 +5604,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getNumTemplateArguments Cursor_getNumTemplateArguments} */
     public static int nclang_Cursor_getNumTemplateArguments(long C) {
         long __functionAddress = Functions.Cursor_getNumTemplateArguments;
-        return nclang_Cursor_getNumTemplateArguments(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 123, __start, nclang_Cursor_getNumTemplateArguments(C, __functionAddress));
     }
 
     /**
@@ -5460,7 +5636,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getTemplateArgumentKind Cursor_getTemplateArgumentKind} */
     public static int nclang_Cursor_getTemplateArgumentKind(long C, int I) {
         long __functionAddress = Functions.Cursor_getTemplateArgumentKind;
-        return nclang_Cursor_getTemplateArgumentKind(C, I, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 124, __start, nclang_Cursor_getTemplateArgumentKind(C, I, __functionAddress));
     }
 
     /**
@@ -5492,7 +5669,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getTemplateArgumentType Cursor_getTemplateArgumentType} */
     public static void nclang_Cursor_getTemplateArgumentType(long C, int I, long __result) {
         long __functionAddress = Functions.Cursor_getTemplateArgumentType;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getTemplateArgumentType(C, I, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     /**
@@ -5525,7 +5704,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getTemplateArgumentValue Cursor_getTemplateArgumentValue} */
     public static long nclang_Cursor_getTemplateArgumentValue(long C, int I) {
         long __functionAddress = Functions.Cursor_getTemplateArgumentValue;
-        return nclang_Cursor_getTemplateArgumentValue(C, I, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 126, __start, nclang_Cursor_getTemplateArgumentValue(C, I, __functionAddress));
     }
 
     /**
@@ -5559,7 +5739,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getTemplateArgumentUnsignedValue Cursor_getTemplateArgumentUnsignedValue} */
     public static long nclang_Cursor_getTemplateArgumentUnsignedValue(long C, int I) {
         long __functionAddress = Functions.Cursor_getTemplateArgumentUnsignedValue;
-        return nclang_Cursor_getTemplateArgumentUnsignedValue(C, I, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 127, __start, nclang_Cursor_getTemplateArgumentUnsignedValue(C, I, __functionAddress));
     }
 
     /**
@@ -5593,7 +5774,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_equalTypes equalTypes} */
     public static int nclang_equalTypes(long A, long B) {
         long __functionAddress = Functions.equalTypes;
-        return nclang_equalTypes(A, B, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 128, __start, nclang_equalTypes(A, B, __functionAddress));
     }
 
     /**
@@ -5614,7 +5796,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCanonicalType getCanonicalType} */
     public static void nclang_getCanonicalType(long T, long __result) {
         long __functionAddress = Functions.getCanonicalType;
+        long __start = FunctionProfiler.start();
         nclang_getCanonicalType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 129, __start);
     }
 
     /**
@@ -5636,7 +5820,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isConstQualifiedType isConstQualifiedType} */
     public static int nclang_isConstQualifiedType(long T) {
         long __functionAddress = Functions.isConstQualifiedType;
-        return nclang_isConstQualifiedType(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 130, __start, nclang_isConstQualifiedType(T, __functionAddress));
     }
 
     /** Determine whether a {@code CXType} has the "const" qualifier set, without looking through typedefs that may have added "const" at a different level. */
@@ -5653,7 +5838,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isMacroFunctionLike Cursor_isMacroFunctionLike} */
     public static int nclang_Cursor_isMacroFunctionLike(long C) {
         long __functionAddress = Functions.Cursor_isMacroFunctionLike;
-        return nclang_Cursor_isMacroFunctionLike(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 131, __start, nclang_Cursor_isMacroFunctionLike(C, __functionAddress));
     }
 
     /** Determine whether a {@code CXCursor} that is a macro, is function like. */
@@ -5670,7 +5856,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isMacroBuiltin Cursor_isMacroBuiltin} */
     public static int nclang_Cursor_isMacroBuiltin(long C) {
         long __functionAddress = Functions.Cursor_isMacroBuiltin;
-        return nclang_Cursor_isMacroBuiltin(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 132, __start, nclang_Cursor_isMacroBuiltin(C, __functionAddress));
     }
 
     /** Determine whether a {@code CXCursor} that is a macro, is a builtin one. */
@@ -5687,7 +5874,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isFunctionInlined Cursor_isFunctionInlined} */
     public static int nclang_Cursor_isFunctionInlined(long C) {
         long __functionAddress = Functions.Cursor_isFunctionInlined;
-        return nclang_Cursor_isFunctionInlined(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 133, __start, nclang_Cursor_isFunctionInlined(C, __functionAddress));
     }
 
     /** Determine whether a {@code CXCursor} that is a function declaration, is an inline declaration. */
@@ -5704,7 +5892,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isVolatileQualifiedType isVolatileQualifiedType} */
     public static int nclang_isVolatileQualifiedType(long T) {
         long __functionAddress = Functions.isVolatileQualifiedType;
-        return nclang_isVolatileQualifiedType(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 134, __start, nclang_isVolatileQualifiedType(T, __functionAddress));
     }
 
     /**
@@ -5724,7 +5913,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isRestrictQualifiedType isRestrictQualifiedType} */
     public static int nclang_isRestrictQualifiedType(long T) {
         long __functionAddress = Functions.isRestrictQualifiedType;
-        return nclang_isRestrictQualifiedType(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 135, __start, nclang_isRestrictQualifiedType(T, __functionAddress));
     }
 
     /**
@@ -5744,7 +5934,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getAddressSpace getAddressSpace} */
     public static int nclang_getAddressSpace(long T) {
         long __functionAddress = Functions.getAddressSpace;
-        return nclang_getAddressSpace(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 136, __start, nclang_getAddressSpace(T, __functionAddress));
     }
 
     /** Returns the address space of the given type. */
@@ -5761,7 +5952,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTypedefName getTypedefName} */
     public static void nclang_getTypedefName(long CT, long __result) {
         long __functionAddress = Functions.getTypedefName;
+        long __start = FunctionProfiler.start();
         nclang_getTypedefName(CT, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 137, __start);
     }
 
     /** Returns the typedef name of the given type. */
@@ -5778,7 +5971,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getPointeeType getPointeeType} */
     public static void nclang_getPointeeType(long T, long __result) {
         long __functionAddress = Functions.getPointeeType;
+        long __start = FunctionProfiler.start();
         nclang_getPointeeType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 138, __start);
     }
 
     /** For pointer types, returns the type of the pointee. */
@@ -5795,7 +5990,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTypeDeclaration getTypeDeclaration} */
     public static void nclang_getTypeDeclaration(long T, long __result) {
         long __functionAddress = Functions.getTypeDeclaration;
+        long __start = FunctionProfiler.start();
         nclang_getTypeDeclaration(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 139, __start);
     }
 
     /** Return the cursor for the declaration of the given type. */
@@ -5812,7 +6009,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getDeclObjCTypeEncoding getDeclObjCTypeEncoding} */
     public static void nclang_getDeclObjCTypeEncoding(long C, long __result) {
         long __functionAddress = Functions.getDeclObjCTypeEncoding;
+        long __start = FunctionProfiler.start();
         nclang_getDeclObjCTypeEncoding(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 140, __start);
     }
 
     /** Returns the Objective-C type encoding for the specified declaration. */
@@ -5829,7 +6028,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getObjCEncoding Type_getObjCEncoding} */
     public static void nclang_Type_getObjCEncoding(long type, long __result) {
         long __functionAddress = Functions.Type_getObjCEncoding;
+        long __start = FunctionProfiler.start();
         nclang_Type_getObjCEncoding(type, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 141, __start);
     }
 
     /** Returns the Objective-C type encoding for the specified {@code CXType}. */
@@ -5846,7 +6047,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTypeKindSpelling getTypeKindSpelling} */
     public static void nclang_getTypeKindSpelling(int K, long __result) {
         long __functionAddress = Functions.getTypeKindSpelling;
+        long __start = FunctionProfiler.start();
         nclang_getTypeKindSpelling(K, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 142, __start);
     }
 
     /** Retrieve the spelling of a given {@code CXTypeKind}. */
@@ -5863,7 +6066,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getFunctionTypeCallingConv getFunctionTypeCallingConv} */
     public static int nclang_getFunctionTypeCallingConv(long T) {
         long __functionAddress = Functions.getFunctionTypeCallingConv;
-        return nclang_getFunctionTypeCallingConv(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 143, __start, nclang_getFunctionTypeCallingConv(T, __functionAddress));
     }
 
     /**
@@ -5884,7 +6088,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getResultType getResultType} */
     public static void nclang_getResultType(long T, long __result) {
         long __functionAddress = Functions.getResultType;
+        long __start = FunctionProfiler.start();
         nclang_getResultType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 144, __start);
     }
 
     /**
@@ -5905,7 +6111,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getExceptionSpecificationType getExceptionSpecificationType} */
     public static int nclang_getExceptionSpecificationType(long T) {
         long __functionAddress = Functions.getExceptionSpecificationType;
-        return nclang_getExceptionSpecificationType(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 145, __start, nclang_getExceptionSpecificationType(T, __functionAddress));
     }
 
     /**
@@ -5925,7 +6132,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getNumArgTypes getNumArgTypes} */
     public static int nclang_getNumArgTypes(long T) {
         long __functionAddress = Functions.getNumArgTypes;
-        return nclang_getNumArgTypes(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 146, __start, nclang_getNumArgTypes(T, __functionAddress));
     }
 
     /**
@@ -5945,7 +6153,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getArgType getArgType} */
     public static void nclang_getArgType(long T, int i, long __result) {
         long __functionAddress = Functions.getArgType;
+        long __start = FunctionProfiler.start();
         nclang_getArgType(T, i, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 147, __start);
     }
 
     /**
@@ -5969,7 +6179,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_Type_getObjCObjectBaseType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 148, __start);
     }
 
     /**
@@ -5993,7 +6205,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_Type_getNumObjCProtocolRefs(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 149, __start, nclang_Type_getNumObjCProtocolRefs(T, __functionAddress));
     }
 
     /**
@@ -6017,7 +6230,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_Type_getObjCProtocolDecl(T, i, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 150, __start);
     }
 
     /**
@@ -6041,7 +6256,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_Type_getNumObjCTypeArgs(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 151, __start, nclang_Type_getNumObjCTypeArgs(T, __functionAddress));
     }
 
     /**
@@ -6065,7 +6281,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_Type_getObjCTypeArg(T, i, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 152, __start);
     }
 
     /**
@@ -6086,7 +6304,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isFunctionTypeVariadic isFunctionTypeVariadic} */
     public static int nclang_isFunctionTypeVariadic(long T) {
         long __functionAddress = Functions.isFunctionTypeVariadic;
-        return nclang_isFunctionTypeVariadic(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 153, __start, nclang_isFunctionTypeVariadic(T, __functionAddress));
     }
 
     /** Return 1 if the {@code CXType} is a variadic function type, and 0 otherwise. */
@@ -6103,7 +6322,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorResultType getCursorResultType} */
     public static void nclang_getCursorResultType(long C, long __result) {
         long __functionAddress = Functions.getCursorResultType;
+        long __start = FunctionProfiler.start();
         nclang_getCursorResultType(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 154, __start);
     }
 
     /**
@@ -6124,7 +6345,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorExceptionSpecificationType getCursorExceptionSpecificationType} */
     public static int nclang_getCursorExceptionSpecificationType(long C) {
         long __functionAddress = Functions.getCursorExceptionSpecificationType;
-        return nclang_getCursorExceptionSpecificationType(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 155, __start, nclang_getCursorExceptionSpecificationType(C, __functionAddress));
     }
 
     /**
@@ -6144,7 +6366,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isPODType isPODType} */
     public static int nclang_isPODType(long T) {
         long __functionAddress = Functions.isPODType;
-        return nclang_isPODType(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 156, __start, nclang_isPODType(T, __functionAddress));
     }
 
     /** Return 1 if the {@code CXType} is a POD (plain old data) type, and 0 otherwise. */
@@ -6161,7 +6384,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getElementType getElementType} */
     public static void nclang_getElementType(long T, long __result) {
         long __functionAddress = Functions.getElementType;
+        long __start = FunctionProfiler.start();
         nclang_getElementType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 157, __start);
     }
 
     /**
@@ -6182,7 +6407,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getNumElements getNumElements} */
     public static long nclang_getNumElements(long T) {
         long __functionAddress = Functions.getNumElements;
-        return nclang_getNumElements(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 158, __start, nclang_getNumElements(T, __functionAddress));
     }
 
     /**
@@ -6203,7 +6429,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getArrayElementType getArrayElementType} */
     public static void nclang_getArrayElementType(long T, long __result) {
         long __functionAddress = Functions.getArrayElementType;
+        long __start = FunctionProfiler.start();
         nclang_getArrayElementType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 159, __start);
     }
 
     /**
@@ -6224,7 +6452,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getArraySize getArraySize} */
     public static long nclang_getArraySize(long T) {
         long __functionAddress = Functions.getArraySize;
-        return nclang_getArraySize(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 160, __start, nclang_getArraySize(T, __functionAddress));
     }
 
     /**
@@ -6245,7 +6474,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getNamedType Type_getNamedType} */
     public static void nclang_Type_getNamedType(long T, long __result) {
         long __functionAddress = Functions.Type_getNamedType;
+        long __start = FunctionProfiler.start();
         nclang_Type_getNamedType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 161, __start);
     }
 
     /**
@@ -6266,7 +6497,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_isTransparentTagTypedef Type_isTransparentTagTypedef} */
     public static int nclang_Type_isTransparentTagTypedef(long T) {
         long __functionAddress = Functions.Type_isTransparentTagTypedef;
-        return nclang_Type_isTransparentTagTypedef(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 162, __start, nclang_Type_isTransparentTagTypedef(T, __functionAddress));
     }
 
     /**
@@ -6293,7 +6525,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_Type_getNullability(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 163, __start, nclang_Type_getNullability(T, __functionAddress));
     }
 
     /** Retrieve the nullability kind of a pointer type. */
@@ -6310,7 +6543,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getAlignOf Type_getAlignOf} */
     public static long nclang_Type_getAlignOf(long T) {
         long __functionAddress = Functions.Type_getAlignOf;
-        return nclang_Type_getAlignOf(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 164, __start, nclang_Type_getAlignOf(T, __functionAddress));
     }
 
     /**
@@ -6333,7 +6567,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getClassType Type_getClassType} */
     public static void nclang_Type_getClassType(long T, long __result) {
         long __functionAddress = Functions.Type_getClassType;
+        long __start = FunctionProfiler.start();
         nclang_Type_getClassType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 165, __start);
     }
 
     /**
@@ -6354,7 +6590,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getSizeOf Type_getSizeOf} */
     public static long nclang_Type_getSizeOf(long T) {
         long __functionAddress = Functions.Type_getSizeOf;
-        return nclang_Type_getSizeOf(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 166, __start, nclang_Type_getSizeOf(T, __functionAddress));
     }
 
     /**
@@ -6376,7 +6613,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getOffsetOf Type_getOffsetOf} */
     public static long nclang_Type_getOffsetOf(long T, long S) {
         long __functionAddress = Functions.Type_getOffsetOf;
-        return nclang_Type_getOffsetOf(T, S, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 167, __start, nclang_Type_getOffsetOf(T, S, __functionAddress));
     }
 
     /**
@@ -6426,7 +6664,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_Type_getModifiedType(T, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 168, __start);
     }
 
     /**
@@ -6447,7 +6687,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getOffsetOfField Cursor_getOffsetOfField} */
     public static long nclang_Cursor_getOffsetOfField(long C) {
         long __functionAddress = Functions.Cursor_getOffsetOfField;
-        return nclang_Cursor_getOffsetOfField(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 169, __start, nclang_Cursor_getOffsetOfField(C, __functionAddress));
     }
 
     /**
@@ -6470,7 +6711,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isAnonymous Cursor_isAnonymous} */
     public static int nclang_Cursor_isAnonymous(long C) {
         long __functionAddress = Functions.Cursor_isAnonymous;
-        return nclang_Cursor_isAnonymous(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 170, __start, nclang_Cursor_isAnonymous(C, __functionAddress));
     }
 
     /** Determine whether the given cursor represents an anonymous record declaration. */
@@ -6487,7 +6729,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getNumTemplateArguments Type_getNumTemplateArguments} */
     public static int nclang_Type_getNumTemplateArguments(long T) {
         long __functionAddress = Functions.Type_getNumTemplateArguments;
-        return nclang_Type_getNumTemplateArguments(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 171, __start, nclang_Type_getNumTemplateArguments(T, __functionAddress));
     }
 
     /** Returns the number of template arguments for given template specialization, or -1 if type {@code T} is not a template specialization. */
@@ -6503,7 +6746,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getTemplateArgumentAsType Type_getTemplateArgumentAsType} */
     public static void nclang_Type_getTemplateArgumentAsType(long T, int i, long __result) {
         long __functionAddress = Functions.Type_getTemplateArgumentAsType;
+        long __start = FunctionProfiler.start();
         nclang_Type_getTemplateArgumentAsType(T, i, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 172, __start);
     }
 
     /**
@@ -6524,7 +6769,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Type_getCXXRefQualifier Type_getCXXRefQualifier} */
     public static int nclang_Type_getCXXRefQualifier(long T) {
         long __functionAddress = Functions.Type_getCXXRefQualifier;
-        return nclang_Type_getCXXRefQualifier(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 173, __start, nclang_Type_getCXXRefQualifier(T, __functionAddress));
     }
 
     /**
@@ -6545,7 +6791,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isBitField Cursor_isBitField} */
     public static int nclang_Cursor_isBitField(long C) {
         long __functionAddress = Functions.Cursor_isBitField;
-        return nclang_Cursor_isBitField(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 174, __start, nclang_Cursor_isBitField(C, __functionAddress));
     }
 
     /** Returns non-zero if the cursor specifies a Record member that is a bitfield. */
@@ -6562,7 +6809,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isVirtualBase isVirtualBase} */
     public static int nclang_isVirtualBase(long cursor) {
         long __functionAddress = Functions.isVirtualBase;
-        return nclang_isVirtualBase(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 175, __start, nclang_isVirtualBase(cursor, __functionAddress));
     }
 
     /** Returns 1 if the base class specified by the cursor with kind {@link #CXCursor_CXXBaseSpecifier Cursor_CXXBaseSpecifier} is virtual. */
@@ -6579,7 +6827,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCXXAccessSpecifier getCXXAccessSpecifier} */
     public static int nclang_getCXXAccessSpecifier(long cursor) {
         long __functionAddress = Functions.getCXXAccessSpecifier;
-        return nclang_getCXXAccessSpecifier(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 176, __start, nclang_getCXXAccessSpecifier(cursor, __functionAddress));
     }
 
     /**
@@ -6601,7 +6850,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getStorageClass Cursor_getStorageClass} */
     public static int nclang_Cursor_getStorageClass(long cursor) {
         long __functionAddress = Functions.Cursor_getStorageClass;
-        return nclang_Cursor_getStorageClass(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 177, __start, nclang_Cursor_getStorageClass(cursor, __functionAddress));
     }
 
     /**
@@ -6622,7 +6872,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getNumOverloadedDecls getNumOverloadedDecls} */
     public static int nclang_getNumOverloadedDecls(long cursor) {
         long __functionAddress = Functions.getNumOverloadedDecls;
-        return nclang_getNumOverloadedDecls(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 178, __start, nclang_getNumOverloadedDecls(cursor, __functionAddress));
     }
 
     /**
@@ -6645,7 +6896,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getOverloadedDecl getOverloadedDecl} */
     public static void nclang_getOverloadedDecl(long cursor, int index, long __result) {
         long __functionAddress = Functions.getOverloadedDecl;
+        long __start = FunctionProfiler.start();
         nclang_getOverloadedDecl(cursor, index, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 179, __start);
     }
 
     /**
@@ -6669,7 +6922,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getIBOutletCollectionType getIBOutletCollectionType} */
     public static void nclang_getIBOutletCollectionType(long cursor, long __result) {
         long __functionAddress = Functions.getIBOutletCollectionType;
+        long __start = FunctionProfiler.start();
         nclang_getIBOutletCollectionType(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 180, __start);
     }
 
     /** For cursors representing an {@code iboutletcollection} attribute, this function returns the collection element type. */
@@ -6689,7 +6944,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(client_data);
         }
-        return nclang_visitChildren(parent, visitor, client_data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 181, __start, nclang_visitChildren(parent, visitor, client_data, __functionAddress));
     }
 
     /**
@@ -6717,7 +6973,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorUSR getCursorUSR} */
     public static void nclang_getCursorUSR(long cursor, long __result) {
         long __functionAddress = Functions.getCursorUSR;
+        long __start = FunctionProfiler.start();
         nclang_getCursorUSR(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 182, __start);
     }
 
     /**
@@ -6739,7 +6997,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_constructUSR_ObjCClass constructUSR_ObjCClass} */
     public static void nclang_constructUSR_ObjCClass(long class_name, long __result) {
         long __functionAddress = Functions.constructUSR_ObjCClass;
+        long __start = FunctionProfiler.start();
         nclang_constructUSR_ObjCClass(class_name, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 183, __start);
     }
 
     /** Construct a USR for a specified Objective-C class. */
@@ -6772,7 +7032,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_constructUSR_ObjCCategory constructUSR_ObjCCategory} */
     public static void nclang_constructUSR_ObjCCategory(long class_name, long category_name, long __result) {
         long __functionAddress = Functions.constructUSR_ObjCCategory;
+        long __start = FunctionProfiler.start();
         nclang_constructUSR_ObjCCategory(class_name, category_name, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 184, __start);
     }
 
     /** Construct a USR for a specified Objective-C category. */
@@ -6808,7 +7070,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_constructUSR_ObjCProtocol constructUSR_ObjCProtocol} */
     public static void nclang_constructUSR_ObjCProtocol(long protocol_name, long __result) {
         long __functionAddress = Functions.constructUSR_ObjCProtocol;
+        long __start = FunctionProfiler.start();
         nclang_constructUSR_ObjCProtocol(protocol_name, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 185, __start);
     }
 
     /** Construct a USR for a specified Objective-C protocol. */
@@ -6841,7 +7105,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_constructUSR_ObjCIvar constructUSR_ObjCIvar} */
     public static void nclang_constructUSR_ObjCIvar(long name, long classUSR, long __result) {
         long __functionAddress = Functions.constructUSR_ObjCIvar;
+        long __start = FunctionProfiler.start();
         nclang_constructUSR_ObjCIvar(name, classUSR, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 186, __start);
     }
 
     /** Construct a USR for a specified Objective-C instance variable and the USR for its containing class. */
@@ -6874,7 +7140,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_constructUSR_ObjCMethod constructUSR_ObjCMethod} */
     public static void nclang_constructUSR_ObjCMethod(long name, int isInstanceMethod, long classUSR, long __result) {
         long __functionAddress = Functions.constructUSR_ObjCMethod;
+        long __start = FunctionProfiler.start();
         nclang_constructUSR_ObjCMethod(name, isInstanceMethod, classUSR, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 187, __start);
     }
 
     /** Construct a USR for a specified Objective-C method and the USR for its containing class. */
@@ -6907,7 +7175,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_constructUSR_ObjCProperty constructUSR_ObjCProperty} */
     public static void nclang_constructUSR_ObjCProperty(long property, long classUSR, long __result) {
         long __functionAddress = Functions.constructUSR_ObjCProperty;
+        long __start = FunctionProfiler.start();
         nclang_constructUSR_ObjCProperty(property, classUSR, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 188, __start);
     }
 
     /** Construct a USR for a specified Objective-C property and the USR for its containing class. */
@@ -6940,7 +7210,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorSpelling getCursorSpelling} */
     public static void nclang_getCursorSpelling(long cursor, long __result) {
         long __functionAddress = Functions.getCursorSpelling;
+        long __start = FunctionProfiler.start();
         nclang_getCursorSpelling(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 189, __start);
     }
 
     /** Retrieve a name for the entity referenced by this cursor. */
@@ -6957,7 +7229,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getSpellingNameRange Cursor_getSpellingNameRange} */
     public static void nclang_Cursor_getSpellingNameRange(long cursor, int pieceIndex, int options, long __result) {
         long __functionAddress = Functions.Cursor_getSpellingNameRange;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getSpellingNameRange(cursor, pieceIndex, options, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 190, __start);
     }
 
     /**
@@ -6982,7 +7256,8 @@ public class ClangIndex {
             check(__functionAddress);
             check(Policy);
         }
-        return invokePI(Policy, Property, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 191, __start, invokePI(Policy, Property, __functionAddress));
     }
 
     // --- [ clang_PrintingPolicy_setProperty ] ---
@@ -6994,7 +7269,9 @@ public class ClangIndex {
             check(__functionAddress);
             check(Policy);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Policy, Property, Value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 192, __start);
     }
 
     // --- [ clang_getCursorPrintingPolicy ] ---
@@ -7008,7 +7285,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_getCursorPrintingPolicy(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 193, __start, nclang_getCursorPrintingPolicy(cursor, __functionAddress));
     }
 
     /**
@@ -7030,7 +7308,9 @@ public class ClangIndex {
             check(__functionAddress);
             check(Policy);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Policy, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 194, __start);
     }
 
     // --- [ clang_getCursorPrettyPrinted ] ---
@@ -7045,7 +7325,9 @@ public class ClangIndex {
             check(__functionAddress);
             check(Policy);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCursorPrettyPrinted(Cursor, Policy, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 195, __start);
     }
 
     /**
@@ -7068,7 +7350,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorDisplayName getCursorDisplayName} */
     public static void nclang_getCursorDisplayName(long cursor, long __result) {
         long __functionAddress = Functions.getCursorDisplayName;
+        long __start = FunctionProfiler.start();
         nclang_getCursorDisplayName(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 196, __start);
     }
 
     /**
@@ -7090,7 +7374,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorReferenced getCursorReferenced} */
     public static void nclang_getCursorReferenced(long cursor, long __result) {
         long __functionAddress = Functions.getCursorReferenced;
+        long __start = FunctionProfiler.start();
         nclang_getCursorReferenced(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 197, __start);
     }
 
     /**
@@ -7113,7 +7399,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorDefinition getCursorDefinition} */
     public static void nclang_getCursorDefinition(long cursor, long __result) {
         long __functionAddress = Functions.getCursorDefinition;
+        long __start = FunctionProfiler.start();
         nclang_getCursorDefinition(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 198, __start);
     }
 
     /**
@@ -7148,7 +7436,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_isCursorDefinition isCursorDefinition} */
     public static int nclang_isCursorDefinition(long cursor) {
         long __functionAddress = Functions.isCursorDefinition;
-        return nclang_isCursorDefinition(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 199, __start, nclang_isCursorDefinition(cursor, __functionAddress));
     }
 
     /** Determine whether the declaration pointed to by this cursor is also a definition of that entity. */
@@ -7165,7 +7454,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCanonicalCursor getCanonicalCursor} */
     public static void nclang_getCanonicalCursor(long cursor, long __result) {
         long __functionAddress = Functions.getCanonicalCursor;
+        long __start = FunctionProfiler.start();
         nclang_getCanonicalCursor(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 200, __start);
     }
 
     /**
@@ -7200,7 +7491,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getObjCSelectorIndex Cursor_getObjCSelectorIndex} */
     public static int nclang_Cursor_getObjCSelectorIndex(long cursor) {
         long __functionAddress = Functions.Cursor_getObjCSelectorIndex;
-        return nclang_Cursor_getObjCSelectorIndex(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 201, __start, nclang_Cursor_getObjCSelectorIndex(cursor, __functionAddress));
     }
 
     /**
@@ -7222,7 +7514,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isDynamicCall Cursor_isDynamicCall} */
     public static int nclang_Cursor_isDynamicCall(long C) {
         long __functionAddress = Functions.Cursor_isDynamicCall;
-        return nclang_Cursor_isDynamicCall(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 202, __start, nclang_Cursor_isDynamicCall(C, __functionAddress));
     }
 
     /**
@@ -7245,7 +7538,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getReceiverType Cursor_getReceiverType} */
     public static void nclang_Cursor_getReceiverType(long C, long __result) {
         long __functionAddress = Functions.Cursor_getReceiverType;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getReceiverType(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 203, __start);
     }
 
     /** Given a cursor pointing to an Objective-C message or property reference, or C++ method call, returns the {@code CXType} of the receiver. */
@@ -7262,7 +7557,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getObjCPropertyAttributes Cursor_getObjCPropertyAttributes} */
     public static int nclang_Cursor_getObjCPropertyAttributes(long C, int reserved) {
         long __functionAddress = Functions.Cursor_getObjCPropertyAttributes;
-        return nclang_Cursor_getObjCPropertyAttributes(C, reserved, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 204, __start, nclang_Cursor_getObjCPropertyAttributes(C, reserved, __functionAddress));
     }
 
     /**
@@ -7287,7 +7583,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getObjCPropertyGetterName(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 205, __start);
     }
 
     /** Given a cursor that represents a property declaration, return the name of the method that implements the getter. */
@@ -7307,7 +7605,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getObjCPropertySetterName(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 206, __start);
     }
 
     /** Given a cursor that represents a property declaration, return the name of the method that implements the setter, if any. */
@@ -7324,7 +7624,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getObjCDeclQualifiers Cursor_getObjCDeclQualifiers} */
     public static int nclang_Cursor_getObjCDeclQualifiers(long C) {
         long __functionAddress = Functions.Cursor_getObjCDeclQualifiers;
-        return nclang_Cursor_getObjCDeclQualifiers(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 207, __start, nclang_Cursor_getObjCDeclQualifiers(C, __functionAddress));
     }
 
     /**
@@ -7344,7 +7645,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isObjCOptional Cursor_isObjCOptional} */
     public static int nclang_Cursor_isObjCOptional(long C) {
         long __functionAddress = Functions.Cursor_isObjCOptional;
-        return nclang_Cursor_isObjCOptional(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 208, __start, nclang_Cursor_isObjCOptional(C, __functionAddress));
     }
 
     /**
@@ -7364,7 +7666,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isVariadic Cursor_isVariadic} */
     public static int nclang_Cursor_isVariadic(long C) {
         long __functionAddress = Functions.Cursor_isVariadic;
-        return nclang_Cursor_isVariadic(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 209, __start, nclang_Cursor_isVariadic(C, __functionAddress));
     }
 
     /** Returns non-zero if the given cursor is a variadic function or method. */
@@ -7381,7 +7684,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_isExternalSymbol Cursor_isExternalSymbol} */
     public static int nclang_Cursor_isExternalSymbol(long C, long language, long definedIn, long isGenerated) {
         long __functionAddress = Functions.Cursor_isExternalSymbol;
-        return nclang_Cursor_isExternalSymbol(C, language, definedIn, isGenerated, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 210, __start, nclang_Cursor_isExternalSymbol(C, language, definedIn, isGenerated, __functionAddress));
     }
 
     /**
@@ -7409,7 +7713,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getCommentRange Cursor_getCommentRange} */
     public static void nclang_Cursor_getCommentRange(long C, long __result) {
         long __functionAddress = Functions.Cursor_getCommentRange;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getCommentRange(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 211, __start);
     }
 
     /**
@@ -7429,7 +7735,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getRawCommentText Cursor_getRawCommentText} */
     public static void nclang_Cursor_getRawCommentText(long C, long __result) {
         long __functionAddress = Functions.Cursor_getRawCommentText;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getRawCommentText(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 212, __start);
     }
 
     /** Given a cursor that represents a declaration, return the associated comment text, including comment markers. */
@@ -7446,7 +7754,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getBriefCommentText Cursor_getBriefCommentText} */
     public static void nclang_Cursor_getBriefCommentText(long C, long __result) {
         long __functionAddress = Functions.Cursor_getBriefCommentText;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getBriefCommentText(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 213, __start);
     }
 
     /**
@@ -7467,7 +7777,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getMangling Cursor_getMangling} */
     public static void nclang_Cursor_getMangling(long cursor, long __result) {
         long __functionAddress = Functions.Cursor_getMangling;
+        long __start = FunctionProfiler.start();
         nclang_Cursor_getMangling(cursor, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 214, __start);
     }
 
     /** Retrieve the {@code CXString} representing the mangled name of the cursor. */
@@ -7484,7 +7796,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getCXXManglings Cursor_getCXXManglings} */
     public static long nclang_Cursor_getCXXManglings(long cursor) {
         long __functionAddress = Functions.Cursor_getCXXManglings;
-        return nclang_Cursor_getCXXManglings(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 215, __start, nclang_Cursor_getCXXManglings(cursor, __functionAddress));
     }
 
     /** Retrieve the {@code CXString}s representing the mangled symbols of the C++ constructor or destructor at the cursor. */
@@ -7506,7 +7819,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_Cursor_getObjCManglings(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 216, __start, nclang_Cursor_getObjCManglings(cursor, __functionAddress));
     }
 
     /** Retrieve the {@code CXString}s representing the mangled symbols of the ObjC class interface or implementation at the cursor. */
@@ -7525,7 +7839,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_getModule Cursor_getModule} */
     public static long nclang_Cursor_getModule(long C) {
         long __functionAddress = Functions.Cursor_getModule;
-        return nclang_Cursor_getModule(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 217, __start, nclang_Cursor_getModule(C, __functionAddress));
     }
 
     /** Given a {@link #CXCursor_ModuleImportDecl Cursor_ModuleImportDecl} cursor, return the associated module. */
@@ -7544,7 +7859,8 @@ public class ClangIndex {
             check(TU);
             check(file);
         }
-        return invokePPP(TU, file, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 218, __start, invokePPP(TU, file, __functionAddress));
     }
 
     // --- [ clang_Module_getASTFile ] ---
@@ -7560,7 +7876,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Module);
         }
-        return invokePP(Module, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 219, __start, invokePP(Module, __functionAddress));
     }
 
     // --- [ clang_Module_getParent ] ---
@@ -7576,7 +7893,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Module);
         }
-        return invokePP(Module, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 220, __start, invokePP(Module, __functionAddress));
     }
 
     // --- [ clang_Module_getName ] ---
@@ -7590,7 +7908,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Module);
         }
+        long __start = FunctionProfiler.start();
         nclang_Module_getName(Module, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 221, __start);
     }
 
     /**
@@ -7613,7 +7933,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Module);
         }
+        long __start = FunctionProfiler.start();
         nclang_Module_getFullName(Module, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 222, __start);
     }
 
     /**
@@ -7638,7 +7960,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Module);
         }
-        return invokePI(Module, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 223, __start, invokePI(Module, __functionAddress)) != 0;
     }
 
     // --- [ clang_Module_getNumTopLevelHeaders ] ---
@@ -7655,7 +7978,8 @@ public class ClangIndex {
             check(TU);
             check(Module);
         }
-        return invokePPI(TU, Module, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 224, __start, invokePPI(TU, Module, __functionAddress));
     }
 
     // --- [ clang_Module_getTopLevelHeader ] ---
@@ -7673,7 +7997,8 @@ public class ClangIndex {
             check(TU);
             check(Module);
         }
-        return invokePPP(TU, Module, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 225, __start, invokePPP(TU, Module, Index, __functionAddress));
     }
 
     // --- [ clang_CXXConstructor_isConvertingConstructor ] ---
@@ -7684,7 +8009,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXConstructor_isConvertingConstructor CXXConstructor_isConvertingConstructor} */
     public static int nclang_CXXConstructor_isConvertingConstructor(long C) {
         long __functionAddress = Functions.CXXConstructor_isConvertingConstructor;
-        return nclang_CXXConstructor_isConvertingConstructor(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 226, __start, nclang_CXXConstructor_isConvertingConstructor(C, __functionAddress));
     }
 
     /** Determine if a C++ constructor is a converting constructor. */
@@ -7701,7 +8027,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXConstructor_isCopyConstructor CXXConstructor_isCopyConstructor} */
     public static int nclang_CXXConstructor_isCopyConstructor(long C) {
         long __functionAddress = Functions.CXXConstructor_isCopyConstructor;
-        return nclang_CXXConstructor_isCopyConstructor(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 227, __start, nclang_CXXConstructor_isCopyConstructor(C, __functionAddress));
     }
 
     /** Determine if a C++ constructor is a copy constructor. */
@@ -7718,7 +8045,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXConstructor_isDefaultConstructor CXXConstructor_isDefaultConstructor} */
     public static int nclang_CXXConstructor_isDefaultConstructor(long C) {
         long __functionAddress = Functions.CXXConstructor_isDefaultConstructor;
-        return nclang_CXXConstructor_isDefaultConstructor(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 228, __start, nclang_CXXConstructor_isDefaultConstructor(C, __functionAddress));
     }
 
     /** Determine if a C++ constructor is the default constructor. */
@@ -7735,7 +8063,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXConstructor_isMoveConstructor CXXConstructor_isMoveConstructor} */
     public static int nclang_CXXConstructor_isMoveConstructor(long C) {
         long __functionAddress = Functions.CXXConstructor_isMoveConstructor;
-        return nclang_CXXConstructor_isMoveConstructor(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 229, __start, nclang_CXXConstructor_isMoveConstructor(C, __functionAddress));
     }
 
     /** Determine if a C++ constructor is a move constructor. */
@@ -7752,7 +8081,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXField_isMutable CXXField_isMutable} */
     public static int nclang_CXXField_isMutable(long C) {
         long __functionAddress = Functions.CXXField_isMutable;
-        return nclang_CXXField_isMutable(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 230, __start, nclang_CXXField_isMutable(C, __functionAddress));
     }
 
     /** Determine if a C++ field is declared 'mutable'. */
@@ -7769,7 +8099,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXMethod_isDefaulted CXXMethod_isDefaulted} */
     public static int nclang_CXXMethod_isDefaulted(long C) {
         long __functionAddress = Functions.CXXMethod_isDefaulted;
-        return nclang_CXXMethod_isDefaulted(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 231, __start, nclang_CXXMethod_isDefaulted(C, __functionAddress));
     }
 
     /** Determine if a C++ method is declared '= default'. */
@@ -7786,7 +8117,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXMethod_isPureVirtual CXXMethod_isPureVirtual} */
     public static int nclang_CXXMethod_isPureVirtual(long C) {
         long __functionAddress = Functions.CXXMethod_isPureVirtual;
-        return nclang_CXXMethod_isPureVirtual(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 232, __start, nclang_CXXMethod_isPureVirtual(C, __functionAddress));
     }
 
     /** Determine if a C++ member function or member function template is pure virtual. */
@@ -7803,7 +8135,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXMethod_isStatic CXXMethod_isStatic} */
     public static int nclang_CXXMethod_isStatic(long C) {
         long __functionAddress = Functions.CXXMethod_isStatic;
-        return nclang_CXXMethod_isStatic(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 233, __start, nclang_CXXMethod_isStatic(C, __functionAddress));
     }
 
     /** Determine if a C++ member function or member function template is declared 'static'. */
@@ -7820,7 +8153,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXMethod_isVirtual CXXMethod_isVirtual} */
     public static int nclang_CXXMethod_isVirtual(long C) {
         long __functionAddress = Functions.CXXMethod_isVirtual;
-        return nclang_CXXMethod_isVirtual(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 234, __start, nclang_CXXMethod_isVirtual(C, __functionAddress));
     }
 
     /**
@@ -7843,7 +8177,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nclang_CXXRecord_isAbstract(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 235, __start, nclang_CXXRecord_isAbstract(C, __functionAddress));
     }
 
     /** Determine if a C++ record is abstract, i.e. whether a class or struct has a pure virtual member function. */
@@ -7860,7 +8195,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_EnumDecl_isScoped EnumDecl_isScoped} */
     public static int nclang_EnumDecl_isScoped(long C) {
         long __functionAddress = Functions.EnumDecl_isScoped;
-        return nclang_EnumDecl_isScoped(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 236, __start, nclang_EnumDecl_isScoped(C, __functionAddress));
     }
 
     /** Determine if an enum declaration refers to a scoped enum. */
@@ -7877,7 +8213,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_CXXMethod_isConst CXXMethod_isConst} */
     public static int nclang_CXXMethod_isConst(long C) {
         long __functionAddress = Functions.CXXMethod_isConst;
-        return nclang_CXXMethod_isConst(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 237, __start, nclang_CXXMethod_isConst(C, __functionAddress));
     }
 
     /** Determine if a C++ member function or member function template is declared 'const'. */
@@ -7894,7 +8231,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTemplateCursorKind getTemplateCursorKind} */
     public static int nclang_getTemplateCursorKind(long C) {
         long __functionAddress = Functions.getTemplateCursorKind;
-        return nclang_getTemplateCursorKind(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 238, __start, nclang_getTemplateCursorKind(C, __functionAddress));
     }
 
     /**
@@ -7921,7 +8259,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getSpecializedCursorTemplate getSpecializedCursorTemplate} */
     public static void nclang_getSpecializedCursorTemplate(long C, long __result) {
         long __functionAddress = Functions.getSpecializedCursorTemplate;
+        long __start = FunctionProfiler.start();
         nclang_getSpecializedCursorTemplate(C, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 239, __start);
     }
 
     /**
@@ -7955,7 +8295,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorReferenceNameRange getCursorReferenceNameRange} */
     public static void nclang_getCursorReferenceNameRange(long C, int NameFlags, int PieceIndex, long __result) {
         long __functionAddress = Functions.getCursorReferenceNameRange;
+        long __start = FunctionProfiler.start();
         nclang_getCursorReferenceNameRange(C, NameFlags, PieceIndex, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 240, __start);
     }
 
     /**
@@ -7986,7 +8328,8 @@ public class ClangIndex {
             check(__functionAddress);
             check(TU);
         }
-        return nclang_getToken(TU, Location, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 241, __start, nclang_getToken(TU, Location, __functionAddress));
     }
 
     /**
@@ -8013,7 +8356,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getTokenKind getTokenKind} */
     public static int nclang_getTokenKind(long token) {
         long __functionAddress = Functions.getTokenKind;
-        return nclang_getTokenKind(token, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 242, __start, nclang_getTokenKind(token, __functionAddress));
     }
 
     /** Determine the kind of the given token. */
@@ -8033,7 +8377,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_getTokenSpelling(TU, token, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 243, __start);
     }
 
     /**
@@ -8057,7 +8403,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_getTokenLocation(TU, token, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 244, __start);
     }
 
     /** Retrieve the source location of the given token. */
@@ -8077,7 +8425,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_getTokenExtent(TU, token, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 245, __start);
     }
 
     /** Retrieve a source range that covers the given token. */
@@ -8097,7 +8447,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         nclang_tokenize(TU, Range, Tokens, NumTokens, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 246, __start);
     }
 
     /**
@@ -8129,7 +8481,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(TU, Tokens, NumTokens, Cursors, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 247, __start);
     }
 
     /**
@@ -8167,7 +8521,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(TU, Tokens, NumTokens, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 248, __start);
     }
 
     /** Free the given set of tokens. */
@@ -8181,7 +8537,9 @@ public class ClangIndex {
 
     public static void nclang_getCursorKindSpelling(int Kind, long __result) {
         long __functionAddress = Functions.getCursorKindSpelling;
+        long __start = FunctionProfiler.start();
         nclang_getCursorKindSpelling(Kind, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 249, __start);
     }
 
     public static CXString clang_getCursorKindSpelling(@NativeType("enum CXCursorKind") int Kind, CXString __result) {
@@ -8195,7 +8553,9 @@ public class ClangIndex {
 
     public static void nclang_getDefinitionSpellingAndExtent(long cursor, long startBuf, long endBuf, long startLine, long startColumn, long endLine, long endColumn) {
         long __functionAddress = Functions.getDefinitionSpellingAndExtent;
+        long __start = FunctionProfiler.start();
         nclang_getDefinitionSpellingAndExtent(cursor, startBuf, endBuf, startLine, startColumn, endLine, endColumn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 250, __start);
     }
 
     public static void clang_getDefinitionSpellingAndExtent(CXCursor cursor, @Nullable @NativeType("char const **") PointerBuffer startBuf, @Nullable @NativeType("char const **") PointerBuffer endBuf, @Nullable @NativeType("unsigned *") IntBuffer startLine, @Nullable @NativeType("unsigned *") IntBuffer startColumn, @Nullable @NativeType("unsigned *") IntBuffer endLine, @Nullable @NativeType("unsigned *") IntBuffer endColumn) {
@@ -8214,14 +8574,18 @@ public class ClangIndex {
 
     public static void clang_enableStackTraces() {
         long __functionAddress = Functions.enableStackTraces;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 251, __start);
     }
 
     // --- [ clang_executeOnThread ] ---
 
     public static void nclang_executeOnThread(long fn, long user_data, int stack_size) {
         long __functionAddress = Functions.executeOnThread;
+        long __start = FunctionProfiler.start();
         invokePPV(fn, user_data, stack_size, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 252, __start);
     }
 
     public static void clang_executeOnThread(@NativeType("void (*) (void *)") CXExecuteOnThreadI fn, @NativeType("void *") long user_data, @NativeType("unsigned") int stack_size) {
@@ -8244,7 +8608,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
-        return invokePI(completion_string, chunk_number, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 253, __start, invokePI(completion_string, chunk_number, __functionAddress));
     }
 
     // --- [ clang_getCompletionChunkText ] ---
@@ -8258,7 +8623,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCompletionChunkText(completion_string, chunk_number, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 254, __start);
     }
 
     /**
@@ -8289,7 +8656,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
-        return invokePP(completion_string, chunk_number, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 255, __start, invokePP(completion_string, chunk_number, __functionAddress));
     }
 
     // --- [ clang_getNumCompletionChunks ] ---
@@ -8301,7 +8669,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
-        return invokePI(completion_string, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 256, __start, invokePI(completion_string, __functionAddress));
     }
 
     // --- [ clang_getCompletionPriority ] ---
@@ -8322,7 +8691,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
-        return invokePI(completion_string, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 257, __start, invokePI(completion_string, __functionAddress));
     }
 
     // --- [ clang_getCompletionAvailability ] ---
@@ -8340,7 +8710,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
-        return invokePI(completion_string, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 258, __start, invokePI(completion_string, __functionAddress));
     }
 
     // --- [ clang_getCompletionNumAnnotations ] ---
@@ -8358,7 +8729,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
-        return invokePI(completion_string, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 259, __start, invokePI(completion_string, __functionAddress));
     }
 
     // --- [ clang_getCompletionAnnotation ] ---
@@ -8372,7 +8744,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCompletionAnnotation(completion_string, annotation_number, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 260, __start);
     }
 
     /**
@@ -8398,7 +8772,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCompletionParent(completion_string, kind, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 261, __start);
     }
 
     /**
@@ -8430,7 +8806,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(completion_string);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCompletionBriefComment(completion_string, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 262, __start);
     }
 
     /** Retrieve the brief documentation comment attached to the declaration that corresponds to the given completion string. */
@@ -8447,7 +8825,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getCursorCompletionString getCursorCompletionString} */
     public static long nclang_getCursorCompletionString(long cursor) {
         long __functionAddress = Functions.getCursorCompletionString;
-        return nclang_getCursorCompletionString(cursor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 263, __start, nclang_getCursorCompletionString(cursor, __functionAddress));
     }
 
     /**
@@ -8470,7 +8849,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePI(results, completion_index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 264, __start, invokePI(results, completion_index, __functionAddress));
     }
 
     /**
@@ -8499,7 +8879,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nclang_getCompletionFixIt(results, completion_index, fixit_index, replacement_range, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 265, __start);
     }
 
     /**
@@ -8541,7 +8923,8 @@ public class ClangIndex {
     @NativeType("unsigned")
     public static int clang_defaultCodeCompleteOptions() {
         long __functionAddress = Functions.defaultCodeCompleteOptions;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 266, __start, invokeI(__functionAddress));
     }
 
     // --- [ clang_codeCompleteAt ] ---
@@ -8556,7 +8939,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(TU);
         }
-        return invokePPPP(TU, complete_filename, complete_line, complete_column, unsaved_files, num_unsaved_files, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 267, __start, invokePPPP(TU, complete_filename, complete_line, complete_column, unsaved_files, num_unsaved_files, options, __functionAddress));
     }
 
     /**
@@ -8660,7 +9044,9 @@ public class ClangIndex {
      */
     public static void nclang_sortCodeCompletionResults(long Results, int NumResults) {
         long __functionAddress = Functions.sortCodeCompletionResults;
+        long __start = FunctionProfiler.start();
         invokePV(Results, NumResults, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 268, __start);
     }
 
     /**
@@ -8677,7 +9063,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_disposeCodeCompleteResults disposeCodeCompleteResults} */
     public static void nclang_disposeCodeCompleteResults(long Results) {
         long __functionAddress = Functions.disposeCodeCompleteResults;
+        long __start = FunctionProfiler.start();
         invokePV(Results, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 269, __start);
     }
 
     /** Free the given set of code-completion results. */
@@ -8690,7 +9078,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_codeCompleteGetNumDiagnostics codeCompleteGetNumDiagnostics} */
     public static int nclang_codeCompleteGetNumDiagnostics(long Results) {
         long __functionAddress = Functions.codeCompleteGetNumDiagnostics;
-        return invokePI(Results, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 270, __start, invokePI(Results, __functionAddress));
     }
 
     /** Determine the number of diagnostics produced prior to the location where code completion was performed. */
@@ -8704,7 +9093,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_codeCompleteGetDiagnostic codeCompleteGetDiagnostic} */
     public static long nclang_codeCompleteGetDiagnostic(long Results, int Index) {
         long __functionAddress = Functions.codeCompleteGetDiagnostic;
-        return invokePP(Results, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 271, __start, invokePP(Results, Index, __functionAddress));
     }
 
     /**
@@ -8725,7 +9115,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_codeCompleteGetContexts codeCompleteGetContexts} */
     public static long nclang_codeCompleteGetContexts(long Results) {
         long __functionAddress = Functions.codeCompleteGetContexts;
-        return invokePJ(Results, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 272, __start, invokePJ(Results, __functionAddress));
     }
 
     /**
@@ -8745,7 +9136,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_codeCompleteGetContainerKind codeCompleteGetContainerKind} */
     public static int nclang_codeCompleteGetContainerKind(long Results, long IsIncomplete) {
         long __functionAddress = Functions.codeCompleteGetContainerKind;
-        return invokePPI(Results, IsIncomplete, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 273, __start, invokePPI(Results, IsIncomplete, __functionAddress));
     }
 
     /**
@@ -8774,7 +9166,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_codeCompleteGetContainerUSR codeCompleteGetContainerUSR} */
     public static void nclang_codeCompleteGetContainerUSR(long Results, long __result) {
         long __functionAddress = Functions.codeCompleteGetContainerUSR;
+        long __start = FunctionProfiler.start();
         nclang_codeCompleteGetContainerUSR(Results, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 274, __start);
     }
 
     /**
@@ -8797,7 +9191,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_codeCompleteGetObjCSelector codeCompleteGetObjCSelector} */
     public static void nclang_codeCompleteGetObjCSelector(long Results, long __result) {
         long __functionAddress = Functions.codeCompleteGetObjCSelector;
+        long __start = FunctionProfiler.start();
         nclang_codeCompleteGetObjCSelector(Results, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 275, __start);
     }
 
     /**
@@ -8820,7 +9216,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getClangVersion getClangVersion} */
     public static void nclang_getClangVersion(long __result) {
         long __functionAddress = Functions.getClangVersion;
+        long __start = FunctionProfiler.start();
         nclang_getClangVersion(__functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 276, __start);
     }
 
     /** Return a version string, suitable for showing to a user, but not intended to be parsed (the format is not guaranteed to be stable). */
@@ -8838,7 +9236,9 @@ public class ClangIndex {
      */
     public static void clang_toggleCrashRecovery(@NativeType("unsigned") boolean isEnabled) {
         long __functionAddress = Functions.toggleCrashRecovery;
+        long __start = FunctionProfiler.start();
         invokeV(isEnabled ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 277, __start);
     }
 
     // --- [ clang_getInclusions ] ---
@@ -8849,7 +9249,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(tu);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(tu, visitor, client_data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 278, __start);
     }
 
     /**
@@ -8868,7 +9270,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_Cursor_Evaluate Cursor_Evaluate} */
     public static long nclang_Cursor_Evaluate(long C) {
         long __functionAddress = Functions.Cursor_Evaluate;
-        return nclang_Cursor_Evaluate(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 279, __start, nclang_Cursor_Evaluate(C, __functionAddress));
     }
 
     /**
@@ -8889,7 +9292,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePI(E, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 280, __start, invokePI(E, __functionAddress));
     }
 
     // --- [ clang_EvalResult_getAsInt ] ---
@@ -8900,7 +9304,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePI(E, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 281, __start, invokePI(E, __functionAddress));
     }
 
     // --- [ clang_EvalResult_getAsLongLong ] ---
@@ -8915,7 +9320,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePJ(E, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 282, __start, invokePJ(E, __functionAddress));
     }
 
     // --- [ clang_EvalResult_isUnsignedInt ] ---
@@ -8927,7 +9333,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePI(E, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 283, __start, invokePI(E, __functionAddress)) != 0;
     }
 
     // --- [ clang_EvalResult_getAsUnsigned ] ---
@@ -8939,7 +9346,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePJ(E, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 284, __start, invokePJ(E, __functionAddress));
     }
 
     // --- [ clang_EvalResult_getAsDouble ] ---
@@ -8950,7 +9358,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePD(E, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 285, __start, invokePD(E, __functionAddress));
     }
 
     // --- [ clang_EvalResult_getAsStr ] ---
@@ -8961,7 +9370,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
-        return invokePP(E, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 286, __start, invokePP(E, __functionAddress));
     }
 
     /**
@@ -8983,7 +9393,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(E);
         }
+        long __start = FunctionProfiler.start();
         invokePV(E, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 287, __start);
     }
 
     // --- [ clang_getRemappings ] ---
@@ -8991,7 +9403,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_getRemappings getRemappings} */
     public static long nclang_getRemappings(long path) {
         long __functionAddress = Functions.getRemappings;
-        return invokePP(path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 288, __start, invokePP(path, __functionAddress));
     }
 
     /**
@@ -9037,7 +9450,8 @@ public class ClangIndex {
      */
     public static long nclang_getRemappingsFromFileList(long filePaths, int numFiles) {
         long __functionAddress = Functions.getRemappingsFromFileList;
-        return invokePP(filePaths, numFiles, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 289, __start, invokePP(filePaths, numFiles, __functionAddress));
     }
 
     /**
@@ -9061,7 +9475,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(Remapping);
         }
-        return invokePI(Remapping, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 290, __start, invokePI(Remapping, __functionAddress));
     }
 
     // --- [ clang_remap_getFilenames ] ---
@@ -9072,7 +9487,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Remapping);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(Remapping, index, original, transformed, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 291, __start);
     }
 
     /**
@@ -9093,7 +9510,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(Remapping);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Remapping, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 292, __start);
     }
 
     // --- [ clang_findReferencesInFile ] ---
@@ -9108,7 +9527,8 @@ public class ClangIndex {
             check(file);
             CXCursorAndRangeVisitor.validate(visitor);
         }
-        return nclang_findReferencesInFile(cursor, file, visitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 293, __start, nclang_findReferencesInFile(cursor, file, visitor, __functionAddress));
     }
 
     /**
@@ -9139,7 +9559,8 @@ public class ClangIndex {
             check(file);
             CXCursorAndRangeVisitor.validate(visitor);
         }
-        return nclang_findIncludesInFile(TU, file, visitor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 294, __start, nclang_findIncludesInFile(TU, file, visitor, __functionAddress));
     }
 
     /**
@@ -9161,14 +9582,16 @@ public class ClangIndex {
     @NativeType("int")
     public static boolean clang_index_isEntityObjCContainerKind(@NativeType("CXIdxEntityKind") int kind) {
         long __functionAddress = Functions.index_isEntityObjCContainerKind;
-        return invokeI(kind, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 295, __start, invokeI(kind, __functionAddress)) != 0;
     }
 
     // --- [ clang_index_getObjCContainerDeclInfo ] ---
 
     public static long nclang_index_getObjCContainerDeclInfo(long info) {
         long __functionAddress = Functions.index_getObjCContainerDeclInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 296, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9182,7 +9605,8 @@ public class ClangIndex {
 
     public static long nclang_index_getObjCInterfaceDeclInfo(long info) {
         long __functionAddress = Functions.index_getObjCInterfaceDeclInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 297, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9196,7 +9620,8 @@ public class ClangIndex {
 
     public static long nclang_index_getObjCCategoryDeclInfo(long info) {
         long __functionAddress = Functions.index_getObjCCategoryDeclInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 298, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9210,7 +9635,8 @@ public class ClangIndex {
 
     public static long nclang_index_getObjCProtocolRefListInfo(long info) {
         long __functionAddress = Functions.index_getObjCProtocolRefListInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 299, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9224,7 +9650,8 @@ public class ClangIndex {
 
     public static long nclang_index_getObjCPropertyDeclInfo(long info) {
         long __functionAddress = Functions.index_getObjCPropertyDeclInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 300, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9238,7 +9665,8 @@ public class ClangIndex {
 
     public static long nclang_index_getIBOutletCollectionAttrInfo(long info) {
         long __functionAddress = Functions.index_getIBOutletCollectionAttrInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 301, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9252,7 +9680,8 @@ public class ClangIndex {
 
     public static long nclang_index_getCXXClassDeclInfo(long info) {
         long __functionAddress = Functions.index_getCXXClassDeclInfo;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 302, __start, invokePP(info, __functionAddress));
     }
 
     @Nullable
@@ -9267,7 +9696,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_index_getClientContainer index_getClientContainer} */
     public static long nclang_index_getClientContainer(long info) {
         long __functionAddress = Functions.index_getClientContainer;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 303, __start, invokePP(info, __functionAddress));
     }
 
     /** For retrieving a custom {@code CXIdxClientContainer} attached to a container. */
@@ -9284,7 +9714,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(container);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(info, container, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 304, __start);
     }
 
     /** For setting a custom {@code CXIdxClientContainer} attached to a container. */
@@ -9297,7 +9729,8 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_index_getClientEntity index_getClientEntity} */
     public static long nclang_index_getClientEntity(long info) {
         long __functionAddress = Functions.index_getClientEntity;
-        return invokePP(info, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 305, __start, invokePP(info, __functionAddress));
     }
 
     /** For retrieving a custom {@code CXIdxClientEntity} attached to an entity. */
@@ -9314,7 +9747,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(entity);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(info, entity, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 306, __start);
     }
 
     /** For setting a custom {@code CXIdxClientEntity} attached to an entity. */
@@ -9335,7 +9770,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(CIdx);
         }
-        return invokePP(CIdx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 307, __start, invokePP(CIdx, __functionAddress));
     }
 
     // --- [ clang_IndexAction_dispose ] ---
@@ -9350,7 +9786,9 @@ public class ClangIndex {
         if (CHECKS) {
             check(action);
         }
+        long __start = FunctionProfiler.start();
         invokePV(action, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 308, __start);
     }
 
     // --- [ clang_indexSourceFile ] ---
@@ -9361,7 +9799,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(action);
         }
-        return invokePPPPPPPI(action, client_data, index_callbacks, index_callbacks_size, index_options, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, out_TU, TU_options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 309, __start, invokePPPPPPPI(action, client_data, index_callbacks, index_callbacks_size, index_options, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, out_TU, TU_options, __functionAddress));
     }
 
     /**
@@ -9422,7 +9861,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(action);
         }
-        return invokePPPPPPPI(action, client_data, index_callbacks, index_callbacks_size, index_options, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, out_TU, TU_options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 310, __start, invokePPPPPPPI(action, client_data, index_callbacks, index_callbacks_size, index_options, source_filename, command_line_args, num_command_line_args, unsaved_files, num_unsaved_files, out_TU, TU_options, __functionAddress));
     }
 
     /**
@@ -9464,7 +9904,8 @@ public class ClangIndex {
             check(action);
             check(TU);
         }
-        return invokePPPPI(action, client_data, index_callbacks, index_callbacks_size, index_options, TU, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 311, __start, invokePPPPI(action, client_data, index_callbacks, index_callbacks_size, index_options, TU, __functionAddress));
     }
 
     /**
@@ -9495,7 +9936,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_indexLoc_getFileLocation indexLoc_getFileLocation} */
     public static void nclang_indexLoc_getFileLocation(long loc, long indexFile, long file, long line, long column, long offset) {
         long __functionAddress = Functions.indexLoc_getFileLocation;
+        long __start = FunctionProfiler.start();
         nclang_indexLoc_getFileLocation(loc, indexFile, file, line, column, offset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 312, __start);
     }
 
     /**
@@ -9523,7 +9966,9 @@ public class ClangIndex {
     /** Unsafe version of: {@link #clang_indexLoc_getCXSourceLocation indexLoc_getCXSourceLocation} */
     public static void nclang_indexLoc_getCXSourceLocation(long loc, long __result) {
         long __functionAddress = Functions.indexLoc_getCXSourceLocation;
+        long __start = FunctionProfiler.start();
         nclang_indexLoc_getCXSourceLocation(loc, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 313, __start);
     }
 
     /** Retrieve the {@code CXSourceLocation} represented by the given {@code CXIdxLoc}. */
@@ -9543,7 +9988,8 @@ public class ClangIndex {
         if (CHECKS) {
             check(client_data);
         }
-        return nclang_Type_visitFields(T, visitor, client_data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 314, __start, nclang_Type_visitFields(T, visitor, client_data, __functionAddress));
     }
 
     /**
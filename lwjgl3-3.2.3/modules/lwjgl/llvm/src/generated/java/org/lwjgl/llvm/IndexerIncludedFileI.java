@@ -7,8 +7,6 @@ package org.lwjgl.llvm;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * Instances of this interface may be set to the {@code ppIncludedFile} field of the {@link IndexerCallbacks} struct.
  * 
@@ -22,7 +20,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("CXIdxClientFile (*) (CXClientData, CXIdxIncludedFileInfo const *)")
-public interface IndexerIncludedFileI extends CallbackI.P {
+public interface IndexerIncludedFileI extends CallbackI.P_PP {
 
     String SIGNATURE = "(pp)p";
 
@@ -30,11 +28,8 @@ public interface IndexerIncludedFileI extends CallbackI.P {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default long callback(long args) {
-        return invoke(
-            dcbArgPointer(args),
-            dcbArgPointer(args)
-        );
+    default long callback(long client_data, long info) {
+        return invoke(client_data, info);
     }
 
     /** The {@code IndexerCallbacks.ppIncludedFile} callback. */
@@ -30,6 +30,8 @@ public class LLVMAnalysis {
         LLVMPrintMessageAction = 1,
         LLVMReturnStatusAction = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMAnalysis.class, "LLVMVerifyModule,LLVMVerifyFunction,LLVMViewFunctionCFG,LLVMViewFunctionCFGOnly");
+
     protected LLVMAnalysis() {
         throw new UnsupportedOperationException();
     }
@@ -56,7 +58,8 @@ public class LLVMAnalysis {
         if (CHECKS) {
             check(M);
         }
-        return invokePPI(M, Action, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPI(M, Action, OutMessage, __functionAddress));
     }
 
     /**
@@ -80,7 +83,8 @@ public class LLVMAnalysis {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePI(Fn, Action, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePI(Fn, Action, __functionAddress)) != 0;
     }
 
     // --- [ LLVMViewFunctionCFG ] ---
@@ -91,7 +95,9 @@ public class LLVMAnalysis {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Fn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ LLVMViewFunctionCFGOnly ] ---
@@ -101,7 +107,9 @@ public class LLVMAnalysis {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Fn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMBitReader {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMBitReader.class, "LLVMParseBitcode,LLVMParseBitcode2,LLVMParseBitcodeInContext,LLVMParseBitcodeInContext2,LLVMGetBitcodeModuleInContext,LLVMGetBitcodeModuleInContext2,LLVMGetBitcodeModule,LLVMGetBitcodeModule2");
+
     protected LLVMBitReader() {
         throw new UnsupportedOperationException();
     }
@@ -46,7 +48,8 @@ public class LLVMBitReader {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePPPI(MemBuf, OutModule, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPPI(MemBuf, OutModule, OutMessage, __functionAddress));
     }
 
     /**
@@ -72,7 +75,8 @@ public class LLVMBitReader {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePPI(MemBuf, OutModule, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePPI(MemBuf, OutModule, __functionAddress));
     }
 
     /**
@@ -96,7 +100,8 @@ public class LLVMBitReader {
             check(ContextRef);
             check(MemBuf);
         }
-        return invokePPPPI(ContextRef, MemBuf, OutModule, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPPPI(ContextRef, MemBuf, OutModule, OutMessage, __functionAddress));
     }
 
     /** This is deprecated. Use {@link #LLVMParseBitcodeInContext2 ParseBitcodeInContext2}. */
@@ -117,7 +122,8 @@ public class LLVMBitReader {
             check(ContextRef);
             check(MemBuf);
         }
-        return invokePPPI(ContextRef, MemBuf, OutModule, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPPI(ContextRef, MemBuf, OutModule, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -137,7 +143,8 @@ public class LLVMBitReader {
             check(ContextRef);
             check(MemBuf);
         }
-        return invokePPPPI(ContextRef, MemBuf, OutM, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPPI(ContextRef, MemBuf, OutM, OutMessage, __functionAddress));
     }
 
     /**
@@ -162,7 +169,8 @@ public class LLVMBitReader {
             check(ContextRef);
             check(MemBuf);
         }
-        return invokePPPI(ContextRef, MemBuf, OutM, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPPI(ContextRef, MemBuf, OutM, __functionAddress));
     }
 
     /**
@@ -185,7 +193,8 @@ public class LLVMBitReader {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePPPI(MemBuf, OutM, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePPPI(MemBuf, OutM, OutMessage, __functionAddress));
     }
 
     /** This is deprecated. Use {@link #LLVMGetBitcodeModule2 GetBitcodeModule2}. */
@@ -205,7 +214,8 @@ public class LLVMBitReader {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePPI(MemBuf, OutM, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePPI(MemBuf, OutM, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -17,6 +17,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMBitWriter {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMBitWriter.class, "LLVMWriteBitcodeToFile,LLVMWriteBitcodeToFD,LLVMWriteBitcodeToFileHandle,LLVMWriteBitcodeToMemoryBuffer");
+
     protected LLVMBitWriter() {
         throw new UnsupportedOperationException();
     }
@@ -43,7 +45,8 @@ public class LLVMBitWriter {
         if (CHECKS) {
             check(M);
         }
-        return invokePPI(M, Path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPI(M, Path, __functionAddress));
     }
 
     /** Writes a module to the specified path. Returns 0 on success. */
@@ -74,7 +77,8 @@ public class LLVMBitWriter {
         if (CHECKS) {
             check(M);
         }
-        return invokePI(M, FD, ShouldClose, Unbuffered, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePI(M, FD, ShouldClose, Unbuffered, __functionAddress));
     }
 
     // --- [ LLVMWriteBitcodeToFileHandle ] ---
@@ -85,7 +89,8 @@ public class LLVMBitWriter {
         if (CHECKS) {
             check(M);
         }
-        return invokePI(M, Handle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePI(M, Handle, __functionAddress));
     }
 
     // --- [ LLVMWriteBitcodeToMemoryBuffer ] ---
@@ -97,7 +102,8 @@ public class LLVMBitWriter {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(M, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ public class LLVMComdat {
         LLVMNoDuplicatesComdatSelectionKind = 3,
         LLVMSameSizeComdatSelectionKind     = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMComdat.class, "LLVMGetOrInsertComdat,LLVMGetComdat,LLVMSetComdat,LLVMGetComdatSelectionKind,LLVMSetComdatSelectionKind");
+
     protected LLVMComdat() {
         throw new UnsupportedOperationException();
     }
@@ -64,7 +66,8 @@ public class LLVMComdat {
         if (CHECKS) {
             check(M);
         }
-        return invokePPP(M, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPP(M, Name, __functionAddress));
     }
 
     /** Return the {@code Comdat} in the module with the specified name. It is created if it didn't already exist. */
@@ -98,7 +101,8 @@ public class LLVMComdat {
         if (CHECKS) {
             check(V);
         }
-        return invokePP(V, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(V, __functionAddress));
     }
 
     // --- [ LLVMSetComdat ] ---
@@ -110,7 +114,9 @@ public class LLVMComdat {
             check(V);
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(V, C, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ LLVMGetComdatSelectionKind ] ---
@@ -122,7 +128,8 @@ public class LLVMComdat {
         if (CHECKS) {
             check(C);
         }
-        return invokePI(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePI(C, __functionAddress));
     }
 
     // --- [ LLVMSetComdatSelectionKind ] ---
@@ -133,7 +140,9 @@ public class LLVMComdat {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePV(C, Kind, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
 }
\ No newline at end of file
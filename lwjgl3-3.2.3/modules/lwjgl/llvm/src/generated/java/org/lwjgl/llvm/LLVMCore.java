@@ -695,6 +695,8 @@ public class LLVMCore {
         LLVMAttributeReturnIndex   = 0,
         LLVMAttributeFunctionIndex = -1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMCore.class, "LLVMInitializeCore,LLVMShutdown,LLVMCreateMessage,LLVMDisposeMessage,LLVMContextCreate,LLVMGetGlobalContext,LLVMContextSetDiagnosticHandler,LLVMContextGetDiagnosticHandler,LLVMContextGetDiagnosticContext,LLVMContextSetYieldCallback,LLVMContextShouldDiscardValueNames,LLVMContextSetDiscardValueNames,LLVMContextDispose,LLVMGetDiagInfoDescription,LLVMGetDiagInfoSeverity,LLVMGetMDKindIDInContext,LLVMGetMDKindID,LLVMGetEnumAttributeKindForName,LLVMGetLastEnumAttributeKind,LLVMCreateEnumAttribute,LLVMGetEnumAttributeKind,LLVMGetEnumAttributeValue,LLVMCreateStringAttribute,LLVMGetStringAttributeKind,LLVMGetStringAttributeValue,LLVMIsEnumAttribute,LLVMIsStringAttribute,LLVMModuleCreateWithName,LLVMModuleCreateWithNameInContext,LLVMCloneModule,LLVMDisposeModule,LLVMGetModuleIdentifier,LLVMSetModuleIdentifier,LLVMGetSourceFileName,LLVMSetSourceFileName,LLVMGetDataLayoutStr,LLVMGetDataLayout,LLVMSetDataLayout,LLVMGetTarget,LLVMSetTarget,LLVMCopyModuleFlagsMetadata,LLVMDisposeModuleFlagsMetadata,LLVMModuleFlagEntriesGetFlagBehavior,LLVMModuleFlagEntriesGetKey,LLVMModuleFlagEntriesGetMetadata,LLVMGetModuleFlag,LLVMAddModuleFlag,LLVMDumpModule,LLVMPrintModuleToFile,LLVMPrintModuleToString,LLVMGetModuleInlineAsm,LLVMSetModuleInlineAsm2,LLVMAppendModuleInlineAsm,LLVMGetInlineAsm,LLVMGetModuleContext,LLVMGetTypeByName,LLVMGetFirstNamedMetadata,LLVMGetLastNamedMetadata,LLVMGetNextNamedMetadata,LLVMGetPreviousNamedMetadata,LLVMGetNamedMetadata,LLVMGetOrInsertNamedMetadata,LLVMGetNamedMetadataName,LLVMGetNamedMetadataNumOperands,LLVMGetNamedMetadataOperands,LLVMAddNamedMetadataOperand,LLVMGetDebugLocDirectory,LLVMGetDebugLocFilename,LLVMGetDebugLocLine,LLVMGetDebugLocColumn,LLVMAddFunction,LLVMGetNamedFunction,LLVMGetFirstFunction,LLVMGetLastFunction,LLVMGetNextFunction,LLVMGetPreviousFunction,LLVMSetModuleInlineAsm,LLVMGetTypeKind,LLVMTypeIsSized,LLVMGetTypeContext,LLVMDumpType,LLVMPrintTypeToString,LLVMInt1TypeInContext,LLVMInt8TypeInContext,LLVMInt16TypeInContext,LLVMInt32TypeInContext,LLVMInt64TypeInContext,LLVMInt128TypeInContext,LLVMIntTypeInContext,LLVMInt1Type,LLVMInt8Type,LLVMInt16Type,LLVMInt32Type,LLVMInt64Type,LLVMInt128Type,LLVMIntType,LLVMGetIntTypeWidth,LLVMHalfTypeInContext,LLVMFloatTypeInContext,LLVMDoubleTypeInContext,LLVMX86FP80TypeInContext,LLVMFP128TypeInContext,LLVMPPCFP128TypeInContext,LLVMHalfType,LLVMFloatType,LLVMDoubleType,LLVMX86FP80Type,LLVMFP128Type,LLVMPPCFP128Type,LLVMFunctionType,LLVMIsFunctionVarArg,LLVMGetReturnType,LLVMCountParamTypes,LLVMGetParamTypes,LLVMStructTypeInContext,LLVMStructType,LLVMStructCreateNamed,LLVMGetStructName,LLVMStructSetBody,LLVMCountStructElementTypes,LLVMGetStructElementTypes,LLVMStructGetTypeAtIndex,LLVMIsPackedStruct,LLVMIsOpaqueStruct,LLVMIsLiteralStruct,LLVMGetElementType,LLVMGetSubtypes,LLVMGetNumContainedTypes,LLVMArrayType,LLVMGetArrayLength,LLVMPointerType,LLVMGetPointerAddressSpace,LLVMVectorType,LLVMGetVectorSize,LLVMVoidTypeInContext,LLVMLabelTypeInContext,LLVMX86MMXTypeInContext,LLVMTokenTypeInContext,LLVMMetadataTypeInContext,LLVMVoidType,LLVMLabelType,LLVMX86MMXType,LLVMTypeOf,LLVMGetValueKind,LLVMGetValueName2,LLVMSetValueName2,LLVMDumpValue,LLVMPrintValueToString,LLVMReplaceAllUsesWith,LLVMIsConstant,LLVMIsUndef,LLVMIsAArgument,LLVMIsABasicBlock,LLVMIsAInlineAsm,LLVMIsAUser,LLVMIsAConstant,LLVMIsABlockAddress,LLVMIsAConstantAggregateZero,LLVMIsAConstantArray,LLVMIsAConstantDataSequential,LLVMIsAConstantDataArray,LLVMIsAConstantDataVector,LLVMIsAConstantExpr,LLVMIsAConstantFP,LLVMIsAConstantInt,LLVMIsAConstantPointerNull,LLVMIsAConstantStruct,LLVMIsAConstantTokenNone,LLVMIsAConstantVector,LLVMIsAGlobalValue,LLVMIsAGlobalAlias,LLVMIsAGlobalIFunc,LLVMIsAGlobalObject,LLVMIsAFunction,LLVMIsAGlobalVariable,LLVMIsAUndefValue,LLVMIsAInstruction,LLVMIsABinaryOperator,LLVMIsACallInst,LLVMIsAIntrinsicInst,LLVMIsADbgInfoIntrinsic,LLVMIsADbgVariableIntrinsic,LLVMIsADbgDeclareInst,LLVMIsADbgLabelInst,LLVMIsAMemIntrinsic,LLVMIsAMemCpyInst,LLVMIsAMemMoveInst,LLVMIsAMemSetInst,LLVMIsACmpInst,LLVMIsAFCmpInst,LLVMIsAICmpInst,LLVMIsAExtractElementInst,LLVMIsAGetElementPtrInst,LLVMIsAInsertElementInst,LLVMIsAInsertValueInst,LLVMIsALandingPadInst,LLVMIsAPHINode,LLVMIsASelectInst,LLVMIsAShuffleVectorInst,LLVMIsAStoreInst,LLVMIsABranchInst,LLVMIsAIndirectBrInst,LLVMIsAInvokeInst,LLVMIsAReturnInst,LLVMIsASwitchInst,LLVMIsAUnreachableInst,LLVMIsAResumeInst,LLVMIsACleanupReturnInst,LLVMIsACatchReturnInst,LLVMIsAFuncletPadInst,LLVMIsACatchPadInst,LLVMIsACleanupPadInst,LLVMIsAUnaryInstruction,LLVMIsAAllocaInst,LLVMIsACastInst,LLVMIsAAddrSpaceCastInst,LLVMIsABitCastInst,LLVMIsAFPExtInst,LLVMIsAFPToSIInst,LLVMIsAFPToUIInst,LLVMIsAFPTruncInst,LLVMIsAIntToPtrInst,LLVMIsAPtrToIntInst,LLVMIsASExtInst,LLVMIsASIToFPInst,LLVMIsATruncInst,LLVMIsAUIToFPInst,LLVMIsAZExtInst,LLVMIsAExtractValueInst,LLVMIsALoadInst,LLVMIsAVAArgInst,LLVMIsAMDNode,LLVMIsAMDString,LLVMGetValueName,LLVMSetValueName,LLVMGetFirstUse,LLVMGetNextUse,LLVMGetUser,LLVMGetUsedValue,LLVMGetOperand,LLVMGetOperandUse,LLVMSetOperand,LLVMGetNumOperands,LLVMConstNull,LLVMConstAllOnes,LLVMGetUndef,LLVMIsNull,LLVMConstPointerNull,LLVMConstInt,LLVMConstIntOfArbitraryPrecision,LLVMConstIntOfString,LLVMConstIntOfStringAndSize,LLVMConstReal,LLVMConstRealOfString,LLVMConstRealOfStringAndSize,LLVMConstIntGetZExtValue,LLVMConstIntGetSExtValue,LLVMConstRealGetDouble,LLVMConstStringInContext,LLVMConstString,LLVMIsConstantString,LLVMGetAsString,LLVMConstStructInContext,LLVMConstStruct,LLVMConstArray,LLVMConstNamedStruct,LLVMGetElementAsConstant,LLVMConstVector,LLVMGetConstOpcode,LLVMAlignOf,LLVMSizeOf,LLVMConstNeg,LLVMConstNSWNeg,LLVMConstNUWNeg,LLVMConstFNeg,LLVMConstNot,LLVMConstAdd,LLVMConstNSWAdd,LLVMConstNUWAdd,LLVMConstFAdd,LLVMConstSub,LLVMConstNSWSub,LLVMConstNUWSub,LLVMConstFSub,LLVMConstMul,LLVMConstNSWMul,LLVMConstNUWMul,LLVMConstFMul,LLVMConstUDiv,LLVMConstExactUDiv,LLVMConstSDiv,LLVMConstExactSDiv,LLVMConstFDiv,LLVMConstURem,LLVMConstSRem,LLVMConstFRem,LLVMConstAnd,LLVMConstOr,LLVMConstXor,LLVMConstICmp,LLVMConstFCmp,LLVMConstShl,LLVMConstLShr,LLVMConstAShr,LLVMConstGEP,LLVMConstGEP2,LLVMConstInBoundsGEP,LLVMConstInBoundsGEP2,LLVMConstTrunc,LLVMConstSExt,LLVMConstZExt,LLVMConstFPTrunc,LLVMConstFPExt,LLVMConstUIToFP,LLVMConstSIToFP,LLVMConstFPToUI,LLVMConstFPToSI,LLVMConstPtrToInt,LLVMConstIntToPtr,LLVMConstBitCast,LLVMConstAddrSpaceCast,LLVMConstZExtOrBitCast,LLVMConstSExtOrBitCast,LLVMConstTruncOrBitCast,LLVMConstPointerCast,LLVMConstIntCast,LLVMConstFPCast,LLVMConstSelect,LLVMConstExtractElement,LLVMConstInsertElement,LLVMConstShuffleVector,LLVMConstExtractValue,LLVMConstInsertValue,LLVMBlockAddress,LLVMConstInlineAsm,LLVMGetGlobalParent,LLVMIsDeclaration,LLVMGetLinkage,LLVMSetLinkage,LLVMGetSection,LLVMSetSection,LLVMGetVisibility,LLVMSetVisibility,LLVMGetDLLStorageClass,LLVMSetDLLStorageClass,LLVMGetUnnamedAddress,LLVMSetUnnamedAddress,LLVMGlobalGetValueType,LLVMHasUnnamedAddr,LLVMSetUnnamedAddr,LLVMGetAlignment,LLVMSetAlignment,LLVMGlobalSetMetadata,LLVMGlobalEraseMetadata,LLVMGlobalClearMetadata,LLVMGlobalCopyAllMetadata,LLVMDisposeValueMetadataEntries,LLVMValueMetadataEntriesGetKind,LLVMValueMetadataEntriesGetMetadata,LLVMAddGlobal,LLVMAddGlobalInAddressSpace,LLVMGetNamedGlobal,LLVMGetFirstGlobal,LLVMGetLastGlobal,LLVMGetNextGlobal,LLVMGetPreviousGlobal,LLVMDeleteGlobal,LLVMGetInitializer,LLVMSetInitializer,LLVMIsThreadLocal,LLVMSetThreadLocal,LLVMIsGlobalConstant,LLVMSetGlobalConstant,LLVMGetThreadLocalMode,LLVMSetThreadLocalMode,LLVMIsExternallyInitialized,LLVMSetExternallyInitialized,LLVMAddAlias,LLVMGetNamedGlobalAlias,LLVMGetFirstGlobalAlias,LLVMGetLastGlobalAlias,LLVMGetNextGlobalAlias,LLVMGetPreviousGlobalAlias,LLVMAliasGetAliasee,LLVMAliasSetAliasee,LLVMDeleteFunction,LLVMHasPersonalityFn,LLVMGetPersonalityFn,LLVMSetPersonalityFn,LLVMGetIntrinsicID,LLVMGetIntrinsicDeclaration,LLVMIntrinsicGetType,LLVMIntrinsicGetName,LLVMIntrinsicCopyOverloadedName,LLVMIntrinsicIsOverloaded,LLVMGetFunctionCallConv,LLVMSetFunctionCallConv,LLVMGetGC,LLVMSetGC,LLVMAddAttributeAtIndex,LLVMGetAttributeCountAtIndex,LLVMGetAttributesAtIndex,LLVMGetEnumAttributeAtIndex,LLVMGetStringAttributeAtIndex,LLVMRemoveEnumAttributeAtIndex,LLVMRemoveStringAttributeAtIndex,LLVMAddTargetDependentFunctionAttr,LLVMCountParams,LLVMGetParams,LLVMGetParam,LLVMGetParamParent,LLVMGetFirstParam,LLVMGetLastParam,LLVMGetNextParam,LLVMGetPreviousParam,LLVMSetParamAlignment,LLVMMDStringInContext,LLVMMDString,LLVMMDNodeInContext,LLVMMDNode,LLVMMetadataAsValue,LLVMValueAsMetadata,LLVMGetMDString,LLVMGetMDNodeNumOperands,LLVMGetMDNodeOperands,LLVMBasicBlockAsValue,LLVMValueIsBasicBlock,LLVMValueAsBasicBlock,LLVMGetBasicBlockName,LLVMGetBasicBlockParent,LLVMGetBasicBlockTerminator,LLVMCountBasicBlocks,LLVMGetBasicBlocks,LLVMGetFirstBasicBlock,LLVMGetLastBasicBlock,LLVMGetNextBasicBlock,LLVMGetPreviousBasicBlock,LLVMGetEntryBasicBlock,LLVMCreateBasicBlockInContext,LLVMAppendBasicBlockInContext,LLVMAppendBasicBlock,LLVMInsertBasicBlockInContext,LLVMInsertBasicBlock,LLVMDeleteBasicBlock,LLVMRemoveBasicBlockFromParent,LLVMMoveBasicBlockBefore,LLVMMoveBasicBlockAfter,LLVMGetFirstInstruction,LLVMGetLastInstruction,LLVMHasMetadata,LLVMGetMetadata,LLVMSetMetadata,LLVMInstructionGetAllMetadataOtherThanDebugLoc,LLVMGetInstructionParent,LLVMGetNextInstruction,LLVMGetPreviousInstruction,LLVMInstructionRemoveFromParent,LLVMInstructionEraseFromParent,LLVMGetInstructionOpcode,LLVMGetICmpPredicate,LLVMGetFCmpPredicate,LLVMInstructionClone,LLVMIsATerminatorInst,LLVMGetNumArgOperands,LLVMSetInstructionCallConv,LLVMGetInstructionCallConv,LLVMSetInstrParamAlignment,LLVMAddCallSiteAttribute,LLVMGetCallSiteAttributeCount,LLVMGetCallSiteAttributes,LLVMGetCallSiteEnumAttribute,LLVMGetCallSiteStringAttribute,LLVMRemoveCallSiteEnumAttribute,LLVMRemoveCallSiteStringAttribute,LLVMGetCalledFunctionType,LLVMGetCalledValue,LLVMIsTailCall,LLVMSetTailCall,LLVMGetNormalDest,LLVMGetUnwindDest,LLVMSetNormalDest,LLVMSetUnwindDest,LLVMGetNumSuccessors,LLVMGetSuccessor,LLVMSetSuccessor,LLVMIsConditional,LLVMGetCondition,LLVMSetCondition,LLVMGetSwitchDefaultDest,LLVMGetAllocatedType,LLVMIsInBounds,LLVMSetIsInBounds,LLVMAddIncoming,LLVMCountIncoming,LLVMGetIncomingValue,LLVMGetIncomingBlock,LLVMGetNumIndices,LLVMGetIndices,LLVMCreateBuilderInContext,LLVMCreateBuilder,LLVMPositionBuilder,LLVMPositionBuilderBefore,LLVMPositionBuilderAtEnd,LLVMGetInsertBlock,LLVMClearInsertionPosition,LLVMInsertIntoBuilder,LLVMInsertIntoBuilderWithName,LLVMDisposeBuilder,LLVMSetCurrentDebugLocation,LLVMGetCurrentDebugLocation,LLVMSetInstDebugLocation,LLVMBuildRetVoid,LLVMBuildRet,LLVMBuildAggregateRet,LLVMBuildBr,LLVMBuildCondBr,LLVMBuildSwitch,LLVMBuildIndirectBr,LLVMBuildInvoke,LLVMBuildInvoke2,LLVMBuildUnreachable,LLVMBuildResume,LLVMBuildLandingPad,LLVMBuildCleanupRet,LLVMBuildCatchRet,LLVMBuildCatchPad,LLVMBuildCleanupPad,LLVMBuildCatchSwitch,LLVMAddCase,LLVMAddDestination,LLVMGetNumClauses,LLVMGetClause,LLVMAddClause,LLVMIsCleanup,LLVMSetCleanup,LLVMAddHandler,LLVMGetNumHandlers,LLVMGetHandlers,LLVMGetArgOperand,LLVMSetArgOperand,LLVMGetParentCatchSwitch,LLVMSetParentCatchSwitch,LLVMBuildAdd,LLVMBuildNSWAdd,LLVMBuildNUWAdd,LLVMBuildFAdd,LLVMBuildSub,LLVMBuildNSWSub,LLVMBuildNUWSub,LLVMBuildFSub,LLVMBuildMul,LLVMBuildNSWMul,LLVMBuildNUWMul,LLVMBuildFMul,LLVMBuildUDiv,LLVMBuildExactUDiv,LLVMBuildSDiv,LLVMBuildExactSDiv,LLVMBuildFDiv,LLVMBuildURem,LLVMBuildSRem,LLVMBuildFRem,LLVMBuildShl,LLVMBuildLShr,LLVMBuildAShr,LLVMBuildAnd,LLVMBuildOr,LLVMBuildXor,LLVMBuildBinOp,LLVMBuildNeg,LLVMBuildNSWNeg,LLVMBuildNUWNeg,LLVMBuildFNeg,LLVMBuildNot,LLVMBuildMalloc,LLVMBuildArrayMalloc,LLVMBuildMemSet,LLVMBuildMemCpy,LLVMBuildMemMove,LLVMBuildAlloca,LLVMBuildArrayAlloca,LLVMBuildFree,LLVMBuildLoad,LLVMBuildLoad2,LLVMBuildStore,LLVMBuildGEP,LLVMBuildInBoundsGEP,LLVMBuildStructGEP,LLVMBuildGEP2,LLVMBuildInBoundsGEP2,LLVMBuildStructGEP2,LLVMBuildGlobalString,LLVMBuildGlobalStringPtr,LLVMGetVolatile,LLVMSetVolatile,LLVMGetOrdering,LLVMSetOrdering,LLVMBuildTrunc,LLVMBuildZExt,LLVMBuildSExt,LLVMBuildFPToUI,LLVMBuildFPToSI,LLVMBuildUIToFP,LLVMBuildSIToFP,LLVMBuildFPTrunc,LLVMBuildFPExt,LLVMBuildPtrToInt,LLVMBuildIntToPtr,LLVMBuildBitCast,LLVMBuildAddrSpaceCast,LLVMBuildZExtOrBitCast,LLVMBuildSExtOrBitCast,LLVMBuildTruncOrBitCast,LLVMBuildCast,LLVMBuildPointerCast,LLVMBuildPointerCast2,LLVMBuildIntCast,LLVMBuildFPCast,LLVMBuildICmp,LLVMBuildFCmp,LLVMBuildPhi,LLVMBuildCall,LLVMBuildCall2,LLVMBuildSelect,LLVMBuildVAArg,LLVMBuildExtractElement,LLVMBuildInsertElement,LLVMBuildShuffleVector,LLVMBuildExtractValue,LLVMBuildInsertValue,LLVMBuildIsNull,LLVMBuildIsNotNull,LLVMBuildPtrDiff,LLVMBuildFence,LLVMBuildAtomicRMW,LLVMBuildAtomicCmpXchg,LLVMIsAtomicSingleThread,LLVMSetAtomicSingleThread,LLVMGetCmpXchgSuccessOrdering,LLVMSetCmpXchgSuccessOrdering,LLVMGetCmpXchgFailureOrdering,LLVMSetCmpXchgFailureOrdering,LLVMCreateModuleProviderForExistingModule,LLVMDisposeModuleProvider,LLVMCreateMemoryBufferWithContentsOfFile,LLVMCreateMemoryBufferWithSTDIN,LLVMCreateMemoryBufferWithMemoryRange,LLVMCreateMemoryBufferWithMemoryRangeCopy,LLVMGetBufferStart,LLVMGetBufferSize,LLVMDisposeMemoryBuffer,LLVMGetGlobalPassRegistry,LLVMCreatePassManager,LLVMCreateFunctionPassManagerForModule,LLVMCreateFunctionPassManager,LLVMRunPassManager,LLVMInitializeFunctionPassManager,LLVMRunFunctionPassManager,LLVMFinalizeFunctionPassManager,LLVMDisposePassManager,LLVMStartMultithreaded,LLVMStopMultithreaded,LLVMIsMultithreaded");
+
     protected LLVMCore() {
         throw new UnsupportedOperationException();
     }
@@ -1386,7 +1388,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ LLVMShutdown ] ---
@@ -1394,14 +1398,17 @@ public class LLVMCore {
     /** Deallocate and destroy all {@code ManagedStatic} variables. */
     public static void LLVMShutdown() {
         long __functionAddress = Functions.Shutdown;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMCreateMessage ] ---
 
     public static long nLLVMCreateMessage(long Message) {
         long __functionAddress = Functions.CreateMessage;
-        return invokePP(Message, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(Message, __functionAddress));
     }
 
     @NativeType("char *")
@@ -1430,7 +1437,9 @@ public class LLVMCore {
 
     public static void nLLVMDisposeMessage(long Message) {
         long __functionAddress = Functions.DisposeMessage;
+        long __start = FunctionProfiler.start();
         invokePV(Message, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     public static void LLVMDisposeMessage(@NativeType("char *") ByteBuffer Message) {
@@ -1450,7 +1459,8 @@ public class LLVMCore {
     @NativeType("LLVMContextRef")
     public static long LLVMContextCreate() {
         long __functionAddress = Functions.ContextCreate;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMGetGlobalContext ] ---
@@ -1459,7 +1469,8 @@ public class LLVMCore {
     @NativeType("LLVMContextRef")
     public static long LLVMGetGlobalContext() {
         long __functionAddress = Functions.GetGlobalContext;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMContextSetDiagnosticHandler ] ---
@@ -1470,7 +1481,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(C, Handler, DiagnosticContext, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Set the diagnostic handler for this context. */
@@ -1486,7 +1499,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePP(C, __functionAddress));
     }
 
     /** Get the diagnostic handler of this context. */
@@ -1505,7 +1519,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMContextSetYieldCallback ] ---
@@ -1516,7 +1531,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(C, Callback, OpaqueHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Set the yield callback function for this context. */
@@ -1538,7 +1555,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(C);
         }
-        return invokePI(C, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePI(C, __functionAddress)) != 0;
     }
 
     // --- [ LLVMContextSetDiscardValueNames ] ---
@@ -1557,7 +1575,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePV(C, Discard ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ LLVMContextDispose ] ---
@@ -1572,7 +1592,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePV(C, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ LLVMGetDiagInfoDescription ] ---
@@ -1583,7 +1605,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(DI);
         }
-        return invokePP(DI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(DI, __functionAddress));
     }
 
     /** Return a string representation of the {@code DiagnosticInfo}. Use {@link #LLVMDisposeMessage DisposeMessage} to free the string. */
@@ -1602,7 +1625,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(DI);
         }
-        return invokePI(DI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePI(DI, __functionAddress));
     }
 
     // --- [ LLVMGetMDKindIDInContext ] ---
@@ -1612,7 +1636,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPI(C, Name, SLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePPI(C, Name, SLen, __functionAddress));
     }
 
     @NativeType("unsigned int")
@@ -1636,7 +1661,8 @@ public class LLVMCore {
 
     public static int nLLVMGetMDKindID(long Name, int SLen) {
         long __functionAddress = Functions.GetMDKindID;
-        return invokePI(Name, SLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePI(Name, SLen, __functionAddress));
     }
 
     @NativeType("unsigned int")
@@ -1661,7 +1687,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMGetEnumAttributeKindForName GetEnumAttributeKindForName} */
     public static int nLLVMGetEnumAttributeKindForName(long Name, long SLen) {
         long __functionAddress = Functions.GetEnumAttributeKindForName;
-        return invokePPI(Name, SLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePPI(Name, SLen, __functionAddress));
     }
 
     /**
@@ -1702,7 +1729,8 @@ public class LLVMCore {
     @NativeType("unsigned int")
     public static int LLVMGetLastEnumAttributeKind() {
         long __functionAddress = Functions.GetLastEnumAttributeKind;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokeI(__functionAddress));
     }
 
     // --- [ LLVMCreateEnumAttribute ] ---
@@ -1714,7 +1742,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePJP(C, KindID, Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokePJP(C, KindID, Val, __functionAddress));
     }
 
     // --- [ LLVMGetEnumAttributeKind ] ---
@@ -1726,7 +1755,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(A);
         }
-        return invokePI(A, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePI(A, __functionAddress));
     }
 
     // --- [ LLVMGetEnumAttributeValue ] ---
@@ -1738,7 +1768,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(A);
         }
-        return invokePJ(A, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokePJ(A, __functionAddress));
     }
 
     // --- [ LLVMCreateStringAttribute ] ---
@@ -1749,7 +1780,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPPP(C, K, KLength, V, VLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokePPPP(C, K, KLength, V, VLength, __functionAddress));
     }
 
     /** Create a string attribute. */
@@ -1781,7 +1813,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(A);
         }
-        return invokePPP(A, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokePPP(A, Length, __functionAddress));
     }
 
     /** Get the string attribute's kind. */
@@ -1805,7 +1838,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(A);
         }
-        return invokePPP(A, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokePPP(A, Length, __functionAddress));
     }
 
     /** Get the string attribute's value. */
@@ -1829,7 +1863,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(A);
         }
-        return invokePI(A, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePI(A, __functionAddress)) != 0;
     }
 
     // --- [ LLVMIsStringAttribute ] ---
@@ -1840,7 +1875,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(A);
         }
-        return invokePI(A, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokePI(A, __functionAddress)) != 0;
     }
 
     // --- [ LLVMModuleCreateWithName ] ---
@@ -1848,7 +1884,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMModuleCreateWithName ModuleCreateWithName} */
     public static long nLLVMModuleCreateWithName(long ModuleID) {
         long __functionAddress = Functions.ModuleCreateWithName;
-        return invokePP(ModuleID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePP(ModuleID, __functionAddress));
     }
 
     /**
@@ -1893,7 +1930,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(ModuleID, C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, invokePPP(ModuleID, C, __functionAddress));
     }
 
     /**
@@ -1935,7 +1973,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMDisposeModule ] ---
@@ -1950,7 +1989,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePV(M, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ LLVMGetModuleIdentifier ] ---
@@ -1965,7 +2006,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePPP(M, Len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, invokePPP(M, Len, __functionAddress));
     }
 
     /**
@@ -1999,7 +2041,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(M, Ident, Len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2042,7 +2086,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPP(M, Len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePPP(M, Len, __functionAddress));
     }
 
     /**
@@ -2077,7 +2122,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(M, Name, Len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2115,7 +2162,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePP(M, __functionAddress));
     }
 
     /**
@@ -2137,7 +2185,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, invokePP(M, __functionAddress));
     }
 
     @NativeType("char const *")
@@ -2154,7 +2203,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(M, DataLayoutStr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Set the data layout for a module. */
@@ -2185,7 +2236,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, invokePP(M, __functionAddress));
     }
 
     /** Obtain the target triple for a module. */
@@ -2203,7 +2255,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(M, Triple, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Set the target triple for a module. */
@@ -2235,7 +2289,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPP(M, Len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokePPP(M, Len, __functionAddress));
     }
 
     /**
@@ -2259,7 +2314,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Entries, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ LLVMModuleFlagEntriesGetFlagBehavior ] ---
@@ -2272,7 +2329,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
-        return invokePI(Entries, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, invokePI(Entries, Index, __functionAddress));
     }
 
     // --- [ LLVMModuleFlagEntriesGetKey ] ---
@@ -2284,7 +2342,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
-        return invokePPP(Entries, Index, Len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, invokePPP(Entries, Index, Len, __functionAddress));
     }
 
     /** Returns the key for a module flag entry at a specific index. */
@@ -2310,7 +2369,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
-        return invokePP(Entries, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, invokePP(Entries, Index, __functionAddress));
     }
 
     // --- [ LLVMGetModuleFlag ] ---
@@ -2322,7 +2382,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPPP(M, Key, KeyLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, invokePPPP(M, Key, KeyLen, __functionAddress));
     }
 
     /** Add a module-level flag to the module-level flags metadata if it doesn't already exist. */
@@ -2354,7 +2415,9 @@ public class LLVMCore {
             check(M);
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPV(M, Behavior, Key, KeyLen, Val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /** Add a module-level flag to the module-level flags metadata if it doesn't already exist. */
@@ -2382,7 +2445,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePV(M, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ LLVMPrintModuleToFile ] ---
@@ -2393,7 +2458,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePPPI(M, Filename, ErrorMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, invokePPPI(M, Filename, ErrorMessage, __functionAddress));
     }
 
     /**
@@ -2438,7 +2504,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, invokePP(M, __functionAddress));
     }
 
     /** Return a string representation of the module. Use {@link #LLVMDisposeMessage DisposeMessage} to free the string. */
@@ -2457,7 +2524,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPP(M, Len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokePPP(M, Len, __functionAddress));
     }
 
     /** Get inline assembly for a module. */
@@ -2482,7 +2550,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(M, Asm, Len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /** Set inline assembly for a module. */
@@ -2511,7 +2581,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(M, Asm, Len, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /** Append inline assembly to a module. */
@@ -2540,7 +2612,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Ty);
         }
-        return invokePPPPPP(Ty, AsmString, AsmStringSize, Constraints, ConstraintsSize, HasSideEffects, IsAlignStack, Dialect, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, invokePPPPPP(Ty, AsmString, AsmStringSize, Constraints, ConstraintsSize, HasSideEffects, IsAlignStack, Dialect, __functionAddress));
     }
 
     /** Create the specified uniqued inline asm string. */
@@ -2558,7 +2631,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetTypeByName ] ---
@@ -2569,7 +2643,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePPP(M, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, invokePPP(M, Name, __functionAddress));
     }
 
     /** Obtain a Type from a module by its registered name. */
@@ -2604,7 +2679,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetLastNamedMetadata ] ---
@@ -2617,7 +2693,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetNextNamedMetadata ] ---
@@ -2634,7 +2711,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(NamedMDNode);
         }
-        return invokePP(NamedMDNode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePP(NamedMDNode, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousNamedMetadata ] ---
@@ -2651,7 +2729,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(NamedMDNode);
         }
-        return invokePP(NamedMDNode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, invokePP(NamedMDNode, __functionAddress));
     }
 
     // --- [ LLVMGetNamedMetadata ] ---
@@ -2663,7 +2742,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPPP(M, Name, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, invokePPPP(M, Name, NameLen, __functionAddress));
     }
 
     /** Retrieve a {@code NamedMDNode} with the given name, returning {@code NULL} if no such node exists. */
@@ -2694,7 +2774,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPPP(M, Name, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, invokePPPP(M, Name, NameLen, __functionAddress));
     }
 
     /** Retrieve a {@code NamedMDNode} with the given name, creating a new node if no such node exists. */
@@ -2725,7 +2806,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(NamedMD);
         }
-        return invokePPP(NamedMD, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, invokePPP(NamedMD, NameLen, __functionAddress));
     }
 
     /** Retrieve the name of a {@code NamedMDNode}. */
@@ -2749,7 +2831,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePPI(M, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, invokePPI(M, Name, __functionAddress));
     }
 
     /** Obtain the number of operands for named metadata in a module. */
@@ -2782,7 +2865,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(M, Name, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     /**
@@ -2832,7 +2917,9 @@ public class LLVMCore {
             check(M);
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(M, Name, Val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     /** Add an operand to named metadata. */
@@ -2864,7 +2951,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePPP(Val, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, invokePPP(Val, Length, __functionAddress));
     }
 
     /**
@@ -2893,7 +2981,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePPP(Val, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, invokePPP(Val, Length, __functionAddress));
     }
 
     /**
@@ -2926,7 +3015,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePI(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, invokePI(Val, __functionAddress));
     }
 
     // --- [ LLVMGetDebugLocColumn ] ---
@@ -2939,7 +3029,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePI(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, invokePI(Val, __functionAddress));
     }
 
     // --- [ LLVMAddFunction ] ---
@@ -2951,7 +3042,8 @@ public class LLVMCore {
             check(M);
             check(FunctionTy);
         }
-        return invokePPPP(M, Name, FunctionTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, invokePPPP(M, Name, FunctionTy, __functionAddress));
     }
 
     /** Add a function to a module under a specified name. */
@@ -2984,7 +3076,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePPP(M, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, invokePPP(M, Name, __functionAddress));
     }
 
     /**
@@ -3026,7 +3119,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetLastFunction ] ---
@@ -3038,7 +3132,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetNextFunction ] ---
@@ -3054,7 +3149,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousFunction ] ---
@@ -3070,7 +3166,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 75, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMSetModuleInlineAsm ] ---
@@ -3082,7 +3179,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(M, Asm, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /** Deprecated: Use {@link #LLVMSetModuleInlineAsm2 SetModuleInlineAsm2} instead. */
@@ -3114,7 +3213,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePI(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, invokePI(Ty, __functionAddress));
     }
 
     // --- [ LLVMTypeIsSized ] ---
@@ -3130,7 +3230,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePI(Ty, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, invokePI(Ty, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetTypeContext ] ---
@@ -3142,7 +3243,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMDumpType ] ---
@@ -3154,7 +3256,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     // --- [ LLVMPrintTypeToString ] ---
@@ -3165,7 +3269,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 81, __start, invokePP(Val, __functionAddress));
     }
 
     /** Return a string representation of the type. Use {@link #LLVMDisposeMessage DisposeMessage} to free the string. */
@@ -3184,7 +3289,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMInt8TypeInContext ] ---
@@ -3195,7 +3301,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 83, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMInt16TypeInContext ] ---
@@ -3206,7 +3313,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 84, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMInt32TypeInContext ] ---
@@ -3217,7 +3325,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 85, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMInt64TypeInContext ] ---
@@ -3228,7 +3337,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 86, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMInt128TypeInContext ] ---
@@ -3239,7 +3349,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 87, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMIntTypeInContext ] ---
@@ -3250,7 +3361,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, NumBits, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 88, __start, invokePP(C, NumBits, __functionAddress));
     }
 
     // --- [ LLVMInt1Type ] ---
@@ -3259,7 +3371,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMInt1Type() {
         long __functionAddress = Functions.Int1Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMInt8Type ] ---
@@ -3267,7 +3380,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMInt8Type() {
         long __functionAddress = Functions.Int8Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMInt16Type ] ---
@@ -3275,7 +3389,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMInt16Type() {
         long __functionAddress = Functions.Int16Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMInt32Type ] ---
@@ -3283,7 +3398,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMInt32Type() {
         long __functionAddress = Functions.Int32Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 92, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMInt64Type ] ---
@@ -3291,7 +3407,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMInt64Type() {
         long __functionAddress = Functions.Int64Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMInt128Type ] ---
@@ -3299,7 +3416,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMInt128Type() {
         long __functionAddress = Functions.Int128Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 94, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMIntType ] ---
@@ -3307,7 +3425,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMIntType(@NativeType("unsigned int") int NumBits) {
         long __functionAddress = Functions.IntType;
-        return invokeP(NumBits, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 95, __start, invokeP(NumBits, __functionAddress));
     }
 
     // --- [ LLVMGetIntTypeWidth ] ---
@@ -3318,7 +3437,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(IntegerTy);
         }
-        return invokePI(IntegerTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 96, __start, invokePI(IntegerTy, __functionAddress));
     }
 
     // --- [ LLVMHalfTypeInContext ] ---
@@ -3330,7 +3450,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 97, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMFloatTypeInContext ] ---
@@ -3342,7 +3463,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 98, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMDoubleTypeInContext ] ---
@@ -3354,7 +3476,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 99, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMX86FP80TypeInContext ] ---
@@ -3366,7 +3489,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 100, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMFP128TypeInContext ] ---
@@ -3378,7 +3502,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 101, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMPPCFP128TypeInContext ] ---
@@ -3390,7 +3515,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 102, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMHalfType ] ---
@@ -3403,7 +3529,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMHalfType() {
         long __functionAddress = Functions.HalfType;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 103, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMFloatType ] ---
@@ -3411,7 +3538,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMFloatType() {
         long __functionAddress = Functions.FloatType;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMDoubleType ] ---
@@ -3419,7 +3547,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMDoubleType() {
         long __functionAddress = Functions.DoubleType;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 105, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMX86FP80Type ] ---
@@ -3427,7 +3556,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMX86FP80Type() {
         long __functionAddress = Functions.X86FP80Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 106, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMFP128Type ] ---
@@ -3435,7 +3565,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMFP128Type() {
         long __functionAddress = Functions.FP128Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 107, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMPPCFP128Type ] ---
@@ -3443,7 +3574,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMPPCFP128Type() {
         long __functionAddress = Functions.PPCFP128Type;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 108, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMFunctionType ] ---
@@ -3454,7 +3586,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ReturnType);
         }
-        return invokePPP(ReturnType, ParamTypes, ParamCount, IsVarArg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 109, __start, invokePPP(ReturnType, ParamTypes, ParamCount, IsVarArg, __functionAddress));
     }
 
     /**
@@ -3476,7 +3609,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(FunctionTy);
         }
-        return invokePI(FunctionTy, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 110, __start, invokePI(FunctionTy, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetReturnType ] ---
@@ -3488,7 +3622,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(FunctionTy);
         }
-        return invokePP(FunctionTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 111, __start, invokePP(FunctionTy, __functionAddress));
     }
 
     // --- [ LLVMCountParamTypes ] ---
@@ -3500,7 +3635,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(FunctionTy);
         }
-        return invokePI(FunctionTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, invokePI(FunctionTy, __functionAddress));
     }
 
     // --- [ LLVMGetParamTypes ] ---
@@ -3511,7 +3647,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(FunctionTy);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(FunctionTy, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -3540,7 +3678,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, ElementTypes, ElementCount, Packed, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 114, __start, invokePPP(C, ElementTypes, ElementCount, Packed, __functionAddress));
     }
 
     /**
@@ -3558,7 +3697,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMStructType StructType} */
     public static long nLLVMStructType(long ElementTypes, int ElementCount, int Packed) {
         long __functionAddress = Functions.StructType;
-        return invokePP(ElementTypes, ElementCount, Packed, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 115, __start, invokePP(ElementTypes, ElementCount, Packed, __functionAddress));
     }
 
     /** Create a new structure type in the global context. */
@@ -3575,7 +3715,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 116, __start, invokePPP(C, Name, __functionAddress));
     }
 
     /** Create an empty structure in a context having a specified name. */
@@ -3608,7 +3749,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 117, __start, invokePP(Ty, __functionAddress));
     }
 
     /** Obtain the name of a structure. */
@@ -3627,7 +3769,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(StructTy, ElementTypes, ElementCount, Packed, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     /** Set the contents of a structure type. */
@@ -3644,7 +3788,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
-        return invokePI(StructTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 119, __start, invokePI(StructTy, __functionAddress));
     }
 
     // --- [ LLVMGetStructElementTypes ] ---
@@ -3655,7 +3800,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(StructTy, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     /**
@@ -3683,7 +3830,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
-        return invokePP(StructTy, i, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 121, __start, invokePP(StructTy, i, __functionAddress));
     }
 
     // --- [ LLVMIsPackedStruct ] ---
@@ -3695,7 +3843,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
-        return invokePI(StructTy, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 122, __start, invokePI(StructTy, __functionAddress)) != 0;
     }
 
     // --- [ LLVMIsOpaqueStruct ] ---
@@ -3707,7 +3856,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
-        return invokePI(StructTy, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 123, __start, invokePI(StructTy, __functionAddress)) != 0;
     }
 
     // --- [ LLVMIsLiteralStruct ] ---
@@ -3720,7 +3870,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(StructTy);
         }
-        return invokePI(StructTy, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 124, __start, invokePI(StructTy, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetElementType ] ---
@@ -3736,7 +3887,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 125, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMGetSubtypes ] ---
@@ -3747,7 +3899,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Tp);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Tp, Arr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     /** Returns type's subtypes */
@@ -3764,7 +3918,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Tp);
         }
-        return invokePI(Tp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 127, __start, invokePI(Tp, __functionAddress));
     }
 
     // --- [ LLVMArrayType ] ---
@@ -3780,7 +3935,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ElementType);
         }
-        return invokePP(ElementType, ElementCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 128, __start, invokePP(ElementType, ElementCount, __functionAddress));
     }
 
     // --- [ LLVMGetArrayLength ] ---
@@ -3796,7 +3952,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ArrayTy);
         }
-        return invokePI(ArrayTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 129, __start, invokePI(ArrayTy, __functionAddress));
     }
 
     // --- [ LLVMPointerType ] ---
@@ -3812,7 +3969,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ElementType);
         }
-        return invokePP(ElementType, AddressSpace, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 130, __start, invokePP(ElementType, AddressSpace, __functionAddress));
     }
 
     // --- [ LLVMGetPointerAddressSpace ] ---
@@ -3828,7 +3986,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(PointerTy);
         }
-        return invokePI(PointerTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 131, __start, invokePI(PointerTy, __functionAddress));
     }
 
     // --- [ LLVMVectorType ] ---
@@ -3844,7 +4003,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ElementType);
         }
-        return invokePP(ElementType, ElementCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 132, __start, invokePP(ElementType, ElementCount, __functionAddress));
     }
 
     // --- [ LLVMGetVectorSize ] ---
@@ -3860,7 +4020,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(VectorTy);
         }
-        return invokePI(VectorTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 133, __start, invokePI(VectorTy, __functionAddress));
     }
 
     // --- [ LLVMVoidTypeInContext ] ---
@@ -3872,7 +4033,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 134, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMLabelTypeInContext ] ---
@@ -3884,7 +4046,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 135, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMX86MMXTypeInContext ] ---
@@ -3896,7 +4059,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 136, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMTokenTypeInContext ] ---
@@ -3909,7 +4073,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 137, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMMetadataTypeInContext ] ---
@@ -3922,7 +4087,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 138, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMVoidType ] ---
@@ -3931,7 +4097,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMVoidType() {
         long __functionAddress = Functions.VoidType;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 139, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMLabelType ] ---
@@ -3939,7 +4106,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMLabelType() {
         long __functionAddress = Functions.LabelType;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 140, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMX86MMXType ] ---
@@ -3947,7 +4115,8 @@ public class LLVMCore {
     @NativeType("LLVMTypeRef")
     public static long LLVMX86MMXType() {
         long __functionAddress = Functions.X86MMXType;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 141, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMTypeOf ] ---
@@ -3959,7 +4128,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 142, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMGetValueKind ] ---
@@ -3971,7 +4141,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 143, __start, invokePI(Val, __functionAddress));
     }
 
     // --- [ LLVMGetValueName2 ] ---
@@ -3983,7 +4154,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePPP(Val, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 144, __start, invokePPP(Val, Length, __functionAddress));
     }
 
     /** Obtain the string name of a value. */
@@ -4008,7 +4180,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(Val, Name, NameLen, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 145, __start);
     }
 
     /** Set the string name of a value. */
@@ -4036,7 +4210,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 146, __start);
     }
 
     // --- [ LLVMPrintValueToString ] ---
@@ -4047,7 +4223,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 147, __start, invokePP(Val, __functionAddress));
     }
 
     /** Return a string representation of the value. Use {@link #LLVMDisposeMessage DisposeMessage} to free the string. */
@@ -4066,7 +4243,9 @@ public class LLVMCore {
             check(OldVal);
             check(NewVal);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(OldVal, NewVal, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 148, __start);
     }
 
     // --- [ LLVMIsConstant ] ---
@@ -4078,7 +4257,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 149, __start, invokePI(Val, __functionAddress)) != 0;
     }
 
     // --- [ LLVMIsUndef ] ---
@@ -4090,7 +4270,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 150, __start, invokePI(Val, __functionAddress)) != 0;
     }
 
     // --- [ LLVMIsAArgument ] ---
@@ -4101,7 +4282,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 151, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsABasicBlock ] ---
@@ -4112,7 +4294,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 152, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAInlineAsm ] ---
@@ -4123,7 +4306,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 153, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAUser ] ---
@@ -4134,7 +4318,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 154, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstant ] ---
@@ -4145,7 +4330,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 155, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsABlockAddress ] ---
@@ -4156,7 +4342,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 156, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantAggregateZero ] ---
@@ -4167,7 +4354,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 157, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantArray ] ---
@@ -4178,7 +4366,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 158, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantDataSequential ] ---
@@ -4189,7 +4378,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 159, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantDataArray ] ---
@@ -4200,7 +4390,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 160, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantDataVector ] ---
@@ -4211,7 +4402,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 161, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantExpr ] ---
@@ -4222,7 +4414,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 162, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantFP ] ---
@@ -4233,7 +4426,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 163, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantInt ] ---
@@ -4244,7 +4438,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 164, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantPointerNull ] ---
@@ -4255,7 +4450,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 165, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantStruct ] ---
@@ -4266,7 +4462,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 166, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantTokenNone ] ---
@@ -4277,7 +4474,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 167, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAConstantVector ] ---
@@ -4288,7 +4486,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 168, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAGlobalValue ] ---
@@ -4299,7 +4498,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 169, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAGlobalAlias ] ---
@@ -4310,7 +4510,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 170, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAGlobalIFunc ] ---
@@ -4322,7 +4523,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 171, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAGlobalObject ] ---
@@ -4333,7 +4535,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 172, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFunction ] ---
@@ -4344,7 +4547,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 173, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAGlobalVariable ] ---
@@ -4355,7 +4559,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 174, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAUndefValue ] ---
@@ -4366,7 +4571,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 175, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAInstruction ] ---
@@ -4377,7 +4583,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 176, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsABinaryOperator ] ---
@@ -4388,7 +4595,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 177, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACallInst ] ---
@@ -4399,7 +4607,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 178, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAIntrinsicInst ] ---
@@ -4410,7 +4619,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 179, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsADbgInfoIntrinsic ] ---
@@ -4421,7 +4631,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 180, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsADbgVariableIntrinsic ] ---
@@ -4433,7 +4644,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 181, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsADbgDeclareInst ] ---
@@ -4444,7 +4656,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 182, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsADbgLabelInst ] ---
@@ -4456,7 +4669,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 183, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAMemIntrinsic ] ---
@@ -4467,7 +4681,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 184, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAMemCpyInst ] ---
@@ -4478,7 +4693,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 185, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAMemMoveInst ] ---
@@ -4489,7 +4705,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 186, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAMemSetInst ] ---
@@ -4500,7 +4717,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 187, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACmpInst ] ---
@@ -4511,7 +4729,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 188, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFCmpInst ] ---
@@ -4522,7 +4741,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 189, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAICmpInst ] ---
@@ -4533,7 +4753,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 190, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAExtractElementInst ] ---
@@ -4544,7 +4765,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 191, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAGetElementPtrInst ] ---
@@ -4555,7 +4777,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 192, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAInsertElementInst ] ---
@@ -4566,7 +4789,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 193, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAInsertValueInst ] ---
@@ -4577,7 +4801,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 194, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsALandingPadInst ] ---
@@ -4588,7 +4813,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 195, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAPHINode ] ---
@@ -4599,7 +4825,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 196, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsASelectInst ] ---
@@ -4610,7 +4837,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 197, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAShuffleVectorInst ] ---
@@ -4621,7 +4849,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 198, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAStoreInst ] ---
@@ -4632,7 +4861,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 199, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsABranchInst ] ---
@@ -4643,7 +4873,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 200, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAIndirectBrInst ] ---
@@ -4654,7 +4885,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 201, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAInvokeInst ] ---
@@ -4665,7 +4897,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 202, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAReturnInst ] ---
@@ -4676,7 +4909,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 203, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsASwitchInst ] ---
@@ -4687,7 +4921,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 204, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAUnreachableInst ] ---
@@ -4698,7 +4933,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 205, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAResumeInst ] ---
@@ -4709,7 +4945,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 206, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACleanupReturnInst ] ---
@@ -4720,7 +4957,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 207, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACatchReturnInst ] ---
@@ -4731,7 +4969,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 208, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFuncletPadInst ] ---
@@ -4742,7 +4981,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 209, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACatchPadInst ] ---
@@ -4753,7 +4993,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 210, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACleanupPadInst ] ---
@@ -4764,7 +5005,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 211, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAUnaryInstruction ] ---
@@ -4775,7 +5017,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 212, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAAllocaInst ] ---
@@ -4786,7 +5029,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 213, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsACastInst ] ---
@@ -4797,7 +5041,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 214, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAAddrSpaceCastInst ] ---
@@ -4808,7 +5053,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 215, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsABitCastInst ] ---
@@ -4819,7 +5065,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 216, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFPExtInst ] ---
@@ -4830,7 +5077,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 217, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFPToSIInst ] ---
@@ -4841,7 +5089,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 218, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFPToUIInst ] ---
@@ -4852,7 +5101,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 219, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAFPTruncInst ] ---
@@ -4863,7 +5113,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 220, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAIntToPtrInst ] ---
@@ -4874,7 +5125,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 221, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAPtrToIntInst ] ---
@@ -4885,7 +5137,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 222, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsASExtInst ] ---
@@ -4896,7 +5149,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 223, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsASIToFPInst ] ---
@@ -4907,7 +5161,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 224, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsATruncInst ] ---
@@ -4918,7 +5173,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 225, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAUIToFPInst ] ---
@@ -4929,7 +5185,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 226, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAZExtInst ] ---
@@ -4940,7 +5197,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 227, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAExtractValueInst ] ---
@@ -4951,7 +5209,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 228, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsALoadInst ] ---
@@ -4962,7 +5221,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 229, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAVAArgInst ] ---
@@ -4973,7 +5233,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 230, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAMDNode ] ---
@@ -4984,7 +5245,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 231, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMIsAMDString ] ---
@@ -4995,7 +5257,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 232, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMGetValueName ] ---
@@ -5006,7 +5269,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 233, __start, invokePP(Val, __functionAddress));
     }
 
     /** Deprecated: Use {@link #LLVMGetValueName2 GetValueName2} instead. */
@@ -5024,7 +5288,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Val, Name, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 234, __start);
     }
 
     /** Deprecated: Use {@link #LLVMSetValueName2 SetValueName2} instead. */
@@ -5061,7 +5327,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 235, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMGetNextUse ] ---
@@ -5077,7 +5344,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(U);
         }
-        return invokePP(U, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 236, __start, invokePP(U, __functionAddress));
     }
 
     // --- [ LLVMGetUser ] ---
@@ -5093,7 +5361,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(U);
         }
-        return invokePP(U, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 237, __start, invokePP(U, __functionAddress));
     }
 
     // --- [ LLVMGetUsedValue ] ---
@@ -5105,7 +5374,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(U);
         }
-        return invokePP(U, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 238, __start, invokePP(U, __functionAddress));
     }
 
     // --- [ LLVMGetOperand ] ---
@@ -5117,7 +5387,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 239, __start, invokePP(Val, Index, __functionAddress));
     }
 
     // --- [ LLVMGetOperandUse ] ---
@@ -5129,7 +5400,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 240, __start, invokePP(Val, Index, __functionAddress));
     }
 
     // --- [ LLVMSetOperand ] ---
@@ -5141,7 +5413,9 @@ public class LLVMCore {
             check(User);
             check(Val);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(User, Index, Val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 241, __start);
     }
 
     // --- [ LLVMGetNumOperands ] ---
@@ -5152,7 +5426,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 242, __start, invokePI(Val, __functionAddress));
     }
 
     // --- [ LLVMConstNull ] ---
@@ -5164,7 +5439,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 243, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMConstAllOnes ] ---
@@ -5180,7 +5456,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 244, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMGetUndef ] ---
@@ -5192,7 +5469,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 245, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMIsNull ] ---
@@ -5204,7 +5482,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 246, __start, invokePI(Val, __functionAddress)) != 0;
     }
 
     // --- [ LLVMConstPointerNull ] ---
@@ -5216,7 +5495,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 247, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMConstInt ] ---
@@ -5236,7 +5516,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(IntTy);
         }
-        return invokePJP(IntTy, N, SignExtend ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 248, __start, invokePJP(IntTy, N, SignExtend ? 1 : 0, __functionAddress));
     }
 
     // --- [ LLVMConstIntOfArbitraryPrecision ] ---
@@ -5247,7 +5528,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(IntTy);
         }
-        return invokePPP(IntTy, NumWords, Words, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 249, __start, invokePPP(IntTy, NumWords, Words, __functionAddress));
     }
 
     /** Obtain a constant value for an integer of arbitrary precision. */
@@ -5264,7 +5546,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(IntTy);
         }
-        return invokePPP(IntTy, Text, Radix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 250, __start, invokePPP(IntTy, Text, Radix, __functionAddress));
     }
 
     /**
@@ -5305,7 +5588,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(IntTy);
         }
-        return invokePPP(IntTy, Text, SLen, Radix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 251, __start, invokePPP(IntTy, Text, SLen, Radix, __functionAddress));
     }
 
     /** Obtain a constant value for an integer parsed from a string with specified length. */
@@ -5336,7 +5620,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(RealTy);
         }
-        return invokePP(RealTy, N, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 252, __start, invokePP(RealTy, N, __functionAddress));
     }
 
     // --- [ LLVMConstRealOfString ] ---
@@ -5347,7 +5632,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(RealTy);
         }
-        return invokePPP(RealTy, Text, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 253, __start, invokePPP(RealTy, Text, __functionAddress));
     }
 
     /**
@@ -5388,7 +5674,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(RealTy);
         }
-        return invokePPP(RealTy, Text, SLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 254, __start, invokePPP(RealTy, Text, SLen, __functionAddress));
     }
 
     /** Obtain a constant for a floating point value parsed from a string. */
@@ -5419,7 +5706,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePJ(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 255, __start, invokePJ(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstIntGetSExtValue ] ---
@@ -5431,7 +5719,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePJ(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 256, __start, invokePJ(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstRealGetDouble ] ---
@@ -5442,7 +5731,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePPD(ConstantVal, losesInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 257, __start, invokePPD(ConstantVal, losesInfo, __functionAddress));
     }
 
     /** Obtain the double value for an floating point constant value. {@code losesInfo} indicates if some precision was lost in the conversion. */
@@ -5461,7 +5751,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, Str, Length, DontNullTerminate, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 258, __start, invokePPP(C, Str, Length, DontNullTerminate, __functionAddress));
     }
 
     /** Create a {@code ConstantDataSequential} and initialize it with a string. */
@@ -5488,7 +5779,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMConstString ConstString} */
     public static long nLLVMConstString(long Str, int Length, int DontNullTerminate) {
         long __functionAddress = Functions.ConstString;
-        return invokePP(Str, Length, DontNullTerminate, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 259, __start, invokePP(Str, Length, DontNullTerminate, __functionAddress));
     }
 
     /**
@@ -5527,7 +5819,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(c);
         }
-        return invokePI(c, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 260, __start, invokePI(c, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetAsString ] ---
@@ -5538,7 +5831,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(c);
         }
-        return invokePPP(c, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 261, __start, invokePPP(c, Length, __functionAddress));
     }
 
     /** Get the given constant data sequential as a string. */
@@ -5562,7 +5856,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, ConstantVals, Count, Packed, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 262, __start, invokePPP(C, ConstantVals, Count, Packed, __functionAddress));
     }
 
     /** Create an anonymous {@code ConstantStruct} with the specified values. */
@@ -5576,7 +5871,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMConstStruct ConstStruct} */
     public static long nLLVMConstStruct(long ConstantVals, int Count, int Packed) {
         long __functionAddress = Functions.ConstStruct;
-        return invokePP(ConstantVals, Count, Packed, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 263, __start, invokePP(ConstantVals, Count, Packed, __functionAddress));
     }
 
     /**
@@ -5597,7 +5893,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ElementTy);
         }
-        return invokePPP(ElementTy, ConstantVals, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 264, __start, invokePPP(ElementTy, ConstantVals, Length, __functionAddress));
     }
 
     /** Create a {@code ConstantArray} from values. */
@@ -5614,7 +5911,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(StructTy);
         }
-        return invokePPP(StructTy, ConstantVals, Count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 265, __start, invokePPP(StructTy, ConstantVals, Count, __functionAddress));
     }
 
     /** Create a non-anonymous {@code ConstantStruct} from values. */
@@ -5632,7 +5930,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, idx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 266, __start, invokePP(C, idx, __functionAddress));
     }
 
     // --- [ LLVMConstVector ] ---
@@ -5640,7 +5939,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMConstVector ConstVector} */
     public static long nLLVMConstVector(long ScalarConstantVals, int Size) {
         long __functionAddress = Functions.ConstVector;
-        return invokePP(ScalarConstantVals, Size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 267, __start, invokePP(ScalarConstantVals, Size, __functionAddress));
     }
 
     /** Create a {@code ConstantVector} from values. */
@@ -5657,7 +5957,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePI(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 268, __start, invokePI(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMAlignOf ] ---
@@ -5668,7 +5969,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 269, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMSizeOf ] ---
@@ -5679,7 +5981,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 270, __start, invokePP(Ty, __functionAddress));
     }
 
     // --- [ LLVMConstNeg ] ---
@@ -5690,7 +5993,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePP(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 271, __start, invokePP(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstNSWNeg ] ---
@@ -5701,7 +6005,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePP(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 272, __start, invokePP(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstNUWNeg ] ---
@@ -5712,7 +6017,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePP(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 273, __start, invokePP(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstFNeg ] ---
@@ -5723,7 +6029,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePP(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 274, __start, invokePP(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstNot ] ---
@@ -5734,7 +6041,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePP(ConstantVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 275, __start, invokePP(ConstantVal, __functionAddress));
     }
 
     // --- [ LLVMConstAdd ] ---
@@ -5746,7 +6054,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 276, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstNSWAdd ] ---
@@ -5758,7 +6067,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 277, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstNUWAdd ] ---
@@ -5770,7 +6080,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 278, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstFAdd ] ---
@@ -5782,7 +6093,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 279, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstSub ] ---
@@ -5794,7 +6106,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 280, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstNSWSub ] ---
@@ -5806,7 +6119,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 281, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstNUWSub ] ---
@@ -5818,7 +6132,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 282, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstFSub ] ---
@@ -5830,7 +6145,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 283, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstMul ] ---
@@ -5842,7 +6158,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 284, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstNSWMul ] ---
@@ -5854,7 +6171,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 285, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstNUWMul ] ---
@@ -5866,7 +6184,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 286, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstFMul ] ---
@@ -5878,7 +6197,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 287, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstUDiv ] ---
@@ -5890,7 +6210,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 288, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstExactUDiv ] ---
@@ -5902,7 +6223,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 289, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstSDiv ] ---
@@ -5914,7 +6236,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 290, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstExactSDiv ] ---
@@ -5926,7 +6249,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 291, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstFDiv ] ---
@@ -5938,7 +6262,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 292, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstURem ] ---
@@ -5950,7 +6275,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 293, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstSRem ] ---
@@ -5962,7 +6288,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 294, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstFRem ] ---
@@ -5974,7 +6301,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 295, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstAnd ] ---
@@ -5986,7 +6314,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 296, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstOr ] ---
@@ -5998,7 +6327,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 297, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstXor ] ---
@@ -6010,7 +6340,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 298, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstICmp ] ---
@@ -6022,7 +6353,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(Predicate, LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 299, __start, invokePPP(Predicate, LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstFCmp ] ---
@@ -6034,7 +6366,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(Predicate, LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 300, __start, invokePPP(Predicate, LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstShl ] ---
@@ -6046,7 +6379,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 301, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstLShr ] ---
@@ -6058,7 +6392,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 302, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstAShr ] ---
@@ -6070,7 +6405,8 @@ public class LLVMCore {
             check(LHSConstant);
             check(RHSConstant);
         }
-        return invokePPP(LHSConstant, RHSConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 303, __start, invokePPP(LHSConstant, RHSConstant, __functionAddress));
     }
 
     // --- [ LLVMConstGEP ] ---
@@ -6080,7 +6416,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePPP(ConstantVal, ConstantIndices, NumIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 304, __start, invokePPP(ConstantVal, ConstantIndices, NumIndices, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6098,7 +6435,8 @@ public class LLVMCore {
             check(Ty);
             check(ConstantVal);
         }
-        return invokePPPP(Ty, ConstantVal, ConstantIndices, NumIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 305, __start, invokePPPP(Ty, ConstantVal, ConstantIndices, NumIndices, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -6114,7 +6452,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(ConstantVal);
         }
-        return invokePPP(ConstantVal, ConstantIndices, NumIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 306, __start, invokePPP(ConstantVal, ConstantIndices, NumIndices, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6132,7 +6471,8 @@ public class LLVMCore {
             check(Ty);
             check(ConstantVal);
         }
-        return invokePPPP(Ty, ConstantVal, ConstantIndices, NumIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 307, __start, invokePPPP(Ty, ConstantVal, ConstantIndices, NumIndices, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -6150,7 +6490,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 308, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstSExt ] ---
@@ -6162,7 +6503,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 309, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstZExt ] ---
@@ -6174,7 +6516,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 310, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstFPTrunc ] ---
@@ -6186,7 +6529,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 311, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstFPExt ] ---
@@ -6198,7 +6542,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 312, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstUIToFP ] ---
@@ -6210,7 +6555,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 313, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstSIToFP ] ---
@@ -6222,7 +6568,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 314, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstFPToUI ] ---
@@ -6234,7 +6581,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 315, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstFPToSI ] ---
@@ -6246,7 +6594,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 316, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstPtrToInt ] ---
@@ -6258,7 +6607,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 317, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstIntToPtr ] ---
@@ -6270,7 +6620,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 318, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstBitCast ] ---
@@ -6282,7 +6633,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 319, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstAddrSpaceCast ] ---
@@ -6294,7 +6646,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 320, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstZExtOrBitCast ] ---
@@ -6306,7 +6659,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 321, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstSExtOrBitCast ] ---
@@ -6318,7 +6672,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 322, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstTruncOrBitCast ] ---
@@ -6330,7 +6685,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 323, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstPointerCast ] ---
@@ -6342,7 +6698,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 324, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstIntCast ] ---
@@ -6354,7 +6711,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, isSigned ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 325, __start, invokePPP(ConstantVal, ToType, isSigned ? 1 : 0, __functionAddress));
     }
 
     // --- [ LLVMConstFPCast ] ---
@@ -6366,7 +6724,8 @@ public class LLVMCore {
             check(ConstantVal);
             check(ToType);
         }
-        return invokePPP(ConstantVal, ToType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 326, __start, invokePPP(ConstantVal, ToType, __functionAddress));
     }
 
     // --- [ LLVMConstSelect ] ---
@@ -6379,7 +6738,8 @@ public class LLVMCore {
             check(ConstantIfTrue);
             check(ConstantIfFalse);
         }
-        return invokePPPP(ConstantCondition, ConstantIfTrue, ConstantIfFalse, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 327, __start, invokePPPP(ConstantCondition, ConstantIfTrue, ConstantIfFalse, __functionAddress));
     }
 
     // --- [ LLVMConstExtractElement ] ---
@@ -6391,7 +6751,8 @@ public class LLVMCore {
             check(VectorConstant);
             check(IndexConstant);
         }
-        return invokePPP(VectorConstant, IndexConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 328, __start, invokePPP(VectorConstant, IndexConstant, __functionAddress));
     }
 
     // --- [ LLVMConstInsertElement ] ---
@@ -6404,7 +6765,8 @@ public class LLVMCore {
             check(ElementValueConstant);
             check(IndexConstant);
         }
-        return invokePPPP(VectorConstant, ElementValueConstant, IndexConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 329, __start, invokePPPP(VectorConstant, ElementValueConstant, IndexConstant, __functionAddress));
     }
 
     // --- [ LLVMConstShuffleVector ] ---
@@ -6417,7 +6779,8 @@ public class LLVMCore {
             check(VectorBConstant);
             check(MaskConstant);
         }
-        return invokePPPP(VectorAConstant, VectorBConstant, MaskConstant, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 330, __start, invokePPPP(VectorAConstant, VectorBConstant, MaskConstant, __functionAddress));
     }
 
     // --- [ LLVMConstExtractValue ] ---
@@ -6427,7 +6790,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(AggConstant);
         }
-        return invokePPP(AggConstant, IdxList, NumIdx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 331, __start, invokePPP(AggConstant, IdxList, NumIdx, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6443,7 +6807,8 @@ public class LLVMCore {
             check(AggConstant);
             check(ElementValueConstant);
         }
-        return invokePPPP(AggConstant, ElementValueConstant, IdxList, NumIdx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 332, __start, invokePPPP(AggConstant, ElementValueConstant, IdxList, NumIdx, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6461,7 +6826,8 @@ public class LLVMCore {
             check(F);
             check(BB);
         }
-        return invokePPP(F, BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 333, __start, invokePPP(F, BB, __functionAddress));
     }
 
     // --- [ LLVMConstInlineAsm ] ---
@@ -6472,7 +6838,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePPPP(Ty, AsmString, Constraints, HasSideEffects, IsAlignStack, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 334, __start, invokePPPP(Ty, AsmString, Constraints, HasSideEffects, IsAlignStack, __functionAddress));
     }
 
     /** Deprecated: Use {@link #LLVMGetInlineAsm GetInlineAsm} instead. */
@@ -6508,7 +6875,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePP(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 335, __start, invokePP(Global, __functionAddress));
     }
 
     // --- [ LLVMIsDeclaration ] ---
@@ -6519,7 +6887,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePI(Global, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 336, __start, invokePI(Global, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetLinkage ] ---
@@ -6530,7 +6899,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePI(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 337, __start, invokePI(Global, __functionAddress));
     }
 
     // --- [ LLVMSetLinkage ] ---
@@ -6540,7 +6910,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, Linkage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 338, __start);
     }
 
     // --- [ LLVMGetSection ] ---
@@ -6550,7 +6922,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePP(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 339, __start, invokePP(Global, __functionAddress));
     }
 
     @NativeType("char const *")
@@ -6566,7 +6939,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Global, Section, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 340, __start);
     }
 
     public static void LLVMSetSection(@NativeType("LLVMValueRef") long Global, @NativeType("char const *") ByteBuffer Section) {
@@ -6595,7 +6970,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePI(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 341, __start, invokePI(Global, __functionAddress));
     }
 
     // --- [ LLVMSetVisibility ] ---
@@ -6605,7 +6981,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, Viz, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 342, __start);
     }
 
     // --- [ LLVMGetDLLStorageClass ] ---
@@ -6616,7 +6994,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePI(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 343, __start, invokePI(Global, __functionAddress));
     }
 
     // --- [ LLVMSetDLLStorageClass ] ---
@@ -6626,7 +7005,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, Class, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 344, __start);
     }
 
     // --- [ LLVMGetUnnamedAddress ] ---
@@ -6638,7 +7019,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Global);
         }
-        return invokePI(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 345, __start, invokePI(Global, __functionAddress));
     }
 
     // --- [ LLVMSetUnnamedAddress ] ---
@@ -6649,7 +7031,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, UnnamedAddr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 346, __start);
     }
 
     // --- [ LLVMGlobalGetValueType ] ---
@@ -6662,7 +7046,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Global);
         }
-        return invokePP(Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 347, __start, invokePP(Global, __functionAddress));
     }
 
     // --- [ LLVMHasUnnamedAddr ] ---
@@ -6674,7 +7059,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
-        return invokePI(Global, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 348, __start, invokePI(Global, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetUnnamedAddr ] ---
@@ -6685,7 +7071,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, HasUnnamedAddr ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 349, __start);
     }
 
     // --- [ LLVMGetAlignment ] ---
@@ -6697,7 +7085,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(V);
         }
-        return invokePI(V, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 350, __start, invokePI(V, __functionAddress));
     }
 
     // --- [ LLVMSetAlignment ] ---
@@ -6708,7 +7097,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(V);
         }
+        long __start = FunctionProfiler.start();
         invokePV(V, Bytes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 351, __start);
     }
 
     // --- [ LLVMGlobalSetMetadata ] ---
@@ -6721,7 +7112,9 @@ public class LLVMCore {
             check(Global);
             check(MD);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Global, Kind, MD, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 352, __start);
     }
 
     // --- [ LLVMGlobalEraseMetadata ] ---
@@ -6733,7 +7126,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, Kind, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 353, __start);
     }
 
     // --- [ LLVMGlobalClearMetadata ] ---
@@ -6745,7 +7140,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Global);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Global, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 354, __start);
     }
 
     // --- [ LLVMGlobalCopyAllMetadata ] ---
@@ -6757,7 +7154,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Value);
         }
-        return invokePPP(Value, NumEntries, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 355, __start, invokePPP(Value, NumEntries, __functionAddress));
     }
 
     /**
@@ -6781,7 +7179,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Entries, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 356, __start);
     }
 
     // --- [ LLVMValueMetadataEntriesGetKind ] ---
@@ -6794,7 +7194,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
-        return invokePI(Entries, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 357, __start, invokePI(Entries, Index, __functionAddress));
     }
 
     // --- [ LLVMValueMetadataEntriesGetMetadata ] ---
@@ -6807,7 +7208,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Entries);
         }
-        return invokePP(Entries, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 358, __start, invokePP(Entries, Index, __functionAddress));
     }
 
     // --- [ LLVMAddGlobal ] ---
@@ -6818,7 +7220,8 @@ public class LLVMCore {
             check(M);
             check(Ty);
         }
-        return invokePPPP(M, Ty, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 359, __start, invokePPPP(M, Ty, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6849,7 +7252,8 @@ public class LLVMCore {
             check(M);
             check(Ty);
         }
-        return invokePPPP(M, Ty, Name, AddressSpace, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 360, __start, invokePPPP(M, Ty, Name, AddressSpace, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6879,7 +7283,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePPP(M, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 361, __start, invokePPP(M, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -6910,7 +7315,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 362, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetLastGlobal ] ---
@@ -6921,7 +7327,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 363, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetNextGlobal ] ---
@@ -6932,7 +7339,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePP(GlobalVar, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 364, __start, invokePP(GlobalVar, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousGlobal ] ---
@@ -6943,7 +7351,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePP(GlobalVar, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 365, __start, invokePP(GlobalVar, __functionAddress));
     }
 
     // --- [ LLVMDeleteGlobal ] ---
@@ -6953,7 +7362,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GlobalVar, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 366, __start);
     }
 
     // --- [ LLVMGetInitializer ] ---
@@ -6964,7 +7375,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePP(GlobalVar, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 367, __start, invokePP(GlobalVar, __functionAddress));
     }
 
     // --- [ LLVMSetInitializer ] ---
@@ -6975,7 +7387,9 @@ public class LLVMCore {
             check(GlobalVar);
             check(ConstantVal);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(GlobalVar, ConstantVal, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 368, __start);
     }
 
     // --- [ LLVMIsThreadLocal ] ---
@@ -6986,7 +7400,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePI(GlobalVar, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 369, __start, invokePI(GlobalVar, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetThreadLocal ] ---
@@ -6996,7 +7411,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GlobalVar, IsThreadLocal ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 370, __start);
     }
 
     // --- [ LLVMIsGlobalConstant ] ---
@@ -7007,7 +7424,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePI(GlobalVar, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 371, __start, invokePI(GlobalVar, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetGlobalConstant ] ---
@@ -7017,7 +7435,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GlobalVar, IsConstant ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 372, __start);
     }
 
     // --- [ LLVMGetThreadLocalMode ] ---
@@ -7028,7 +7448,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePI(GlobalVar, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 373, __start, invokePI(GlobalVar, __functionAddress));
     }
 
     // --- [ LLVMSetThreadLocalMode ] ---
@@ -7038,7 +7459,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GlobalVar, Mode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 374, __start);
     }
 
     // --- [ LLVMIsExternallyInitialized ] ---
@@ -7049,7 +7472,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
-        return invokePI(GlobalVar, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 375, __start, invokePI(GlobalVar, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetExternallyInitialized ] ---
@@ -7059,7 +7483,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(GlobalVar);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GlobalVar, IsExtInit ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 376, __start);
     }
 
     // --- [ LLVMAddAlias ] ---
@@ -7071,7 +7497,8 @@ public class LLVMCore {
             check(Ty);
             check(Aliasee);
         }
-        return invokePPPPP(M, Ty, Aliasee, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 377, __start, invokePPPPP(M, Ty, Aliasee, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -7103,7 +7530,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePPPP(M, Name, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 378, __start, invokePPPP(M, Name, NameLen, __functionAddress));
     }
 
     /**
@@ -7143,7 +7571,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 379, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetLastGlobalAlias ] ---
@@ -7156,7 +7585,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 380, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMGetNextGlobalAlias ] ---
@@ -7173,7 +7603,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(GA);
         }
-        return invokePP(GA, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 381, __start, invokePP(GA, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousGlobalAlias ] ---
@@ -7190,7 +7621,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(GA);
         }
-        return invokePP(GA, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 382, __start, invokePP(GA, __functionAddress));
     }
 
     // --- [ LLVMAliasGetAliasee ] ---
@@ -7203,7 +7635,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Alias);
         }
-        return invokePP(Alias, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 383, __start, invokePP(Alias, __functionAddress));
     }
 
     // --- [ LLVMAliasSetAliasee ] ---
@@ -7216,7 +7649,9 @@ public class LLVMCore {
             check(Alias);
             check(Aliasee);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Alias, Aliasee, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 384, __start);
     }
 
     // --- [ LLVMDeleteFunction ] ---
@@ -7227,7 +7662,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Fn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 385, __start);
     }
 
     // --- [ LLVMHasPersonalityFn ] ---
@@ -7239,7 +7676,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePI(Fn, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 386, __start, invokePI(Fn, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetPersonalityFn ] ---
@@ -7251,7 +7689,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 387, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMSetPersonalityFn ] ---
@@ -7263,7 +7702,9 @@ public class LLVMCore {
             check(Fn);
             check(PersonalityFn);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Fn, PersonalityFn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 388, __start);
     }
 
     // --- [ LLVMGetIntrinsicID ] ---
@@ -7275,7 +7716,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePI(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 389, __start, invokePI(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetIntrinsicDeclaration ] ---
@@ -7287,7 +7729,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Mod);
         }
-        return invokePPPP(Mod, ID, ParamTypes, ParamCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 390, __start, invokePPPP(Mod, ID, ParamTypes, ParamCount, __functionAddress));
     }
 
     /**
@@ -7311,7 +7754,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Ctx);
         }
-        return invokePPPP(Ctx, ID, ParamTypes, ParamCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 391, __start, invokePPPP(Ctx, ID, ParamTypes, ParamCount, __functionAddress));
     }
 
     /**
@@ -7334,7 +7778,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePP(ID, NameLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 392, __start, invokePP(ID, NameLength, __functionAddress));
     }
 
     /**
@@ -7363,7 +7808,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePPPP(ID, ParamTypes, ParamCount, NameLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 393, __start, invokePPPP(ID, ParamTypes, ParamCount, NameLength, __functionAddress));
     }
 
     /**
@@ -7399,7 +7845,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeI(ID, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 394, __start, invokeI(ID, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetFunctionCallConv ] ---
@@ -7415,7 +7862,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePI(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 395, __start, invokePI(Fn, __functionAddress));
     }
 
     // --- [ LLVMSetFunctionCallConv ] ---
@@ -7431,7 +7879,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Fn, CC, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 396, __start);
     }
 
     // --- [ LLVMGetGC ] ---
@@ -7442,7 +7892,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 397, __start, invokePP(Fn, __functionAddress));
     }
 
     /** Obtain the name of the garbage collector to use during code generation. */
@@ -7461,7 +7912,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Fn, Name, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 398, __start);
     }
 
     /** Define the garbage collector to use during code generation. */
@@ -7493,7 +7946,9 @@ public class LLVMCore {
             check(F);
             check(A);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(F, Idx, A, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 399, __start);
     }
 
     // --- [ LLVMGetAttributeCountAtIndex ] ---
@@ -7504,7 +7959,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(F);
         }
-        return invokePI(F, Idx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 400, __start, invokePI(F, Idx, __functionAddress));
     }
 
     // --- [ LLVMGetAttributesAtIndex ] ---
@@ -7514,7 +7970,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(F);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(F, Idx, Attrs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 401, __start);
     }
 
     public static void LLVMGetAttributesAtIndex(@NativeType("LLVMValueRef") long F, @NativeType("LLVMAttributeIndex") int Idx, @NativeType("LLVMAttributeRef *") PointerBuffer Attrs) {
@@ -7534,7 +7992,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(F);
         }
-        return invokePP(F, Idx, KindID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 402, __start, invokePP(F, Idx, KindID, __functionAddress));
     }
 
     // --- [ LLVMGetStringAttributeAtIndex ] ---
@@ -7544,7 +8003,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(F);
         }
-        return invokePPP(F, Idx, K, KLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 403, __start, invokePPP(F, Idx, K, KLen, __functionAddress));
     }
 
     @NativeType("LLVMAttributeRef")
@@ -7571,7 +8031,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(F);
         }
+        long __start = FunctionProfiler.start();
         invokePV(F, Idx, KindID, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 404, __start);
     }
 
     // --- [ LLVMRemoveStringAttributeAtIndex ] ---
@@ -7581,7 +8043,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(F);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(F, Idx, K, KLen, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 405, __start);
     }
 
     public static void LLVMRemoveStringAttributeAtIndex(@NativeType("LLVMValueRef") long F, @NativeType("LLVMAttributeIndex") int Idx, @NativeType("char const *") ByteBuffer K) {
@@ -7607,7 +8071,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(Fn, A, V, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 406, __start);
     }
 
     /** Add a target-dependent attribute to a function */
@@ -7642,7 +8108,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePI(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 407, __start, invokePI(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetParams ] ---
@@ -7653,7 +8120,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Fn, Params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 408, __start);
     }
 
     /**
@@ -7685,7 +8154,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 409, __start, invokePP(Fn, Index, __functionAddress));
     }
 
     // --- [ LLVMGetParamParent ] ---
@@ -7703,7 +8173,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 410, __start, invokePP(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetFirstParam ] ---
@@ -7715,7 +8186,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 411, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetLastParam ] ---
@@ -7727,7 +8199,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 412, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetNextParam ] ---
@@ -7744,7 +8217,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Arg);
         }
-        return invokePP(Arg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 413, __start, invokePP(Arg, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousParam ] ---
@@ -7760,7 +8234,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Arg);
         }
-        return invokePP(Arg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 414, __start, invokePP(Arg, __functionAddress));
     }
 
     // --- [ LLVMSetParamAlignment ] ---
@@ -7771,7 +8246,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Arg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Arg, Align, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 415, __start);
     }
 
     // --- [ LLVMMDStringInContext ] ---
@@ -7782,7 +8259,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, Str, SLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 416, __start, invokePPP(C, Str, SLen, __functionAddress));
     }
 
     /**
@@ -7823,7 +8301,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMMDString MDString} */
     public static long nLLVMMDString(long Str, int SLen) {
         long __functionAddress = Functions.MDString;
-        return invokePP(Str, SLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 417, __start, invokePP(Str, SLen, __functionAddress));
     }
 
     /** Obtain a {@code MDString} value from the global context. */
@@ -7853,7 +8332,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, Vals, Count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 418, __start, invokePPP(C, Vals, Count, __functionAddress));
     }
 
     /**
@@ -7871,7 +8351,8 @@ public class LLVMCore {
     /** Unsafe version of: {@link #LLVMMDNode MDNode} */
     public static long nLLVMMDNode(long Vals, int Count) {
         long __functionAddress = Functions.MDNode;
-        return invokePP(Vals, Count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 419, __start, invokePP(Vals, Count, __functionAddress));
     }
 
     /** Obtain a {@code MDNode} value from the global context. */
@@ -7890,7 +8371,8 @@ public class LLVMCore {
             check(C);
             check(MD);
         }
-        return invokePPP(C, MD, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 420, __start, invokePPP(C, MD, __functionAddress));
     }
 
     // --- [ LLVMValueAsMetadata ] ---
@@ -7902,7 +8384,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 421, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMGetMDString ] ---
@@ -7917,7 +8400,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(V);
         }
-        return invokePPP(V, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 422, __start, invokePPP(V, Length, __functionAddress));
     }
 
     /**
@@ -7955,7 +8439,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(V);
         }
-        return invokePI(V, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 423, __start, invokePI(V, __functionAddress));
     }
 
     // --- [ LLVMGetMDNodeOperands ] ---
@@ -7966,7 +8451,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(V);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(V, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 424, __start);
     }
 
     /**
@@ -7996,7 +8483,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 425, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMValueIsBasicBlock ] ---
@@ -8008,7 +8496,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 426, __start, invokePI(Val, __functionAddress)) != 0;
     }
 
     // --- [ LLVMValueAsBasicBlock ] ---
@@ -8020,7 +8509,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 427, __start, invokePP(Val, __functionAddress));
     }
 
     // --- [ LLVMGetBasicBlockName ] ---
@@ -8031,7 +8521,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 428, __start, invokePP(BB, __functionAddress));
     }
 
     /** Obtain the string name of a basic block. */
@@ -8050,7 +8541,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 429, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMGetBasicBlockTerminator ] ---
@@ -8068,7 +8560,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 430, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMCountBasicBlocks ] ---
@@ -8084,7 +8577,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePI(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 431, __start, invokePI(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetBasicBlocks ] ---
@@ -8095,7 +8589,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Fn, BasicBlocks, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 432, __start);
     }
 
     /**
@@ -8126,7 +8622,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 433, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetLastBasicBlock ] ---
@@ -8138,7 +8635,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 434, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMGetNextBasicBlock ] ---
@@ -8150,7 +8648,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 435, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousBasicBlock ] ---
@@ -8162,7 +8661,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 436, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMGetEntryBasicBlock ] ---
@@ -8174,7 +8674,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePP(Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 437, __start, invokePP(Fn, __functionAddress));
     }
 
     // --- [ LLVMCreateBasicBlockInContext ] ---
@@ -8186,7 +8687,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(C);
         }
-        return invokePPP(C, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 438, __start, invokePPP(C, Name, __functionAddress));
     }
 
     /**
@@ -8228,7 +8730,8 @@ public class LLVMCore {
             check(C);
             check(Fn);
         }
-        return invokePPPP(C, Fn, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 439, __start, invokePPPP(C, Fn, Name, __functionAddress));
     }
 
     /** Append a basic block to the end of a function. */
@@ -8261,7 +8764,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Fn);
         }
-        return invokePPP(Fn, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 440, __start, invokePPP(Fn, Name, __functionAddress));
     }
 
     /** Append a basic block to the end of a function using the global context. */
@@ -8295,7 +8799,8 @@ public class LLVMCore {
             check(C);
             check(BB);
         }
-        return invokePPPP(C, BB, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 441, __start, invokePPPP(C, BB, Name, __functionAddress));
     }
 
     /**
@@ -8336,7 +8841,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(InsertBeforeBB);
         }
-        return invokePPP(InsertBeforeBB, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 442, __start, invokePPP(InsertBeforeBB, Name, __functionAddress));
     }
 
     /** Insert a basic block in a function using the global context. */
@@ -8373,7 +8879,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(BB, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 443, __start);
     }
 
     // --- [ LLVMRemoveBasicBlockFromParent ] ---
@@ -8388,7 +8896,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(BB, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 444, __start);
     }
 
     // --- [ LLVMMoveBasicBlockBefore ] ---
@@ -8400,7 +8910,9 @@ public class LLVMCore {
             check(BB);
             check(MovePos);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(BB, MovePos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 445, __start);
     }
 
     // --- [ LLVMMoveBasicBlockAfter ] ---
@@ -8412,7 +8924,9 @@ public class LLVMCore {
             check(BB);
             check(MovePos);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(BB, MovePos, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 446, __start);
     }
 
     // --- [ LLVMGetFirstInstruction ] ---
@@ -8428,7 +8942,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 447, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMGetLastInstruction ] ---
@@ -8444,7 +8959,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(BB);
         }
-        return invokePP(BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 448, __start, invokePP(BB, __functionAddress));
     }
 
     // --- [ LLVMHasMetadata ] ---
@@ -8456,7 +8972,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePI(Val, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 449, __start, invokePI(Val, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetMetadata ] ---
@@ -8468,7 +8985,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Val);
         }
-        return invokePP(Val, KindID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 450, __start, invokePP(Val, KindID, __functionAddress));
     }
 
     // --- [ LLVMSetMetadata ] ---
@@ -8480,7 +8998,9 @@ public class LLVMCore {
             check(Val);
             check(Node);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Val, KindID, Node, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 451, __start);
     }
 
     // --- [ LLVMInstructionGetAllMetadataOtherThanDebugLoc ] ---
@@ -8492,7 +9012,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Instr);
         }
-        return invokePPP(Instr, NumEntries, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 452, __start, invokePPP(Instr, NumEntries, __functionAddress));
     }
 
     /** Returns the metadata associated with an instruction value, but filters out all the debug locations. */
@@ -8513,7 +9034,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 453, __start, invokePP(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetNextInstruction ] ---
@@ -8531,7 +9053,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 454, __start, invokePP(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetPreviousInstruction ] ---
@@ -8547,7 +9070,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 455, __start, invokePP(Inst, __functionAddress));
     }
 
     // --- [ LLVMInstructionRemoveFromParent ] ---
@@ -8562,7 +9086,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Inst, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 456, __start);
     }
 
     // --- [ LLVMInstructionEraseFromParent ] ---
@@ -8577,7 +9103,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Inst, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 457, __start);
     }
 
     // --- [ LLVMGetInstructionOpcode ] ---
@@ -8589,7 +9117,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePI(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 458, __start, invokePI(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetICmpPredicate ] ---
@@ -8606,7 +9135,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePI(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 459, __start, invokePI(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetFCmpPredicate ] ---
@@ -8623,7 +9153,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePI(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 460, __start, invokePI(Inst, __functionAddress));
     }
 
     // --- [ LLVMInstructionClone ] ---
@@ -8642,7 +9173,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 461, __start, invokePP(Inst, __functionAddress));
     }
 
     // --- [ LLVMIsATerminatorInst ] ---
@@ -8657,7 +9189,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 462, __start, invokePP(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetNumArgOperands ] ---
@@ -8673,7 +9206,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Instr);
         }
-        return invokePI(Instr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 463, __start, invokePI(Instr, __functionAddress));
     }
 
     // --- [ LLVMSetInstructionCallConv ] ---
@@ -8688,7 +9222,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Instr);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Instr, CC, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 464, __start);
     }
 
     // --- [ LLVMGetInstructionCallConv ] ---
@@ -8704,7 +9240,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Instr);
         }
-        return invokePI(Instr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 465, __start, invokePI(Instr, __functionAddress));
     }
 
     // --- [ LLVMSetInstrParamAlignment ] ---
@@ -8714,7 +9251,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Instr);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Instr, index, Align, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 466, __start);
     }
 
     // --- [ LLVMAddCallSiteAttribute ] ---
@@ -8725,7 +9264,9 @@ public class LLVMCore {
             check(C);
             check(A);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(C, Idx, A, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 467, __start);
     }
 
     // --- [ LLVMGetCallSiteAttributeCount ] ---
@@ -8736,7 +9277,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePI(C, Idx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 468, __start, invokePI(C, Idx, __functionAddress));
     }
 
     // --- [ LLVMGetCallSiteAttributes ] ---
@@ -8746,7 +9288,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(C, Idx, Attrs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 469, __start);
     }
 
     public static void LLVMGetCallSiteAttributes(@NativeType("LLVMValueRef") long C, @NativeType("LLVMAttributeIndex") int Idx, @NativeType("LLVMAttributeRef *") PointerBuffer Attrs) {
@@ -8766,7 +9310,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, Idx, KindID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 470, __start, invokePP(C, Idx, KindID, __functionAddress));
     }
 
     // --- [ LLVMGetCallSiteStringAttribute ] ---
@@ -8776,7 +9321,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePPP(C, Idx, K, KLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 471, __start, invokePPP(C, Idx, K, KLen, __functionAddress));
     }
 
     @NativeType("LLVMAttributeRef")
@@ -8803,7 +9349,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePV(C, Idx, KindID, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 472, __start);
     }
 
     // --- [ LLVMRemoveCallSiteStringAttribute ] ---
@@ -8813,7 +9361,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(C, Idx, K, KLen, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 473, __start);
     }
 
     public static void LLVMRemoveCallSiteStringAttribute(@NativeType("LLVMValueRef") long C, @NativeType("LLVMAttributeIndex") int Idx, @NativeType("char const *") ByteBuffer K) {
@@ -8845,7 +9395,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 474, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMGetCalledValue ] ---
@@ -8861,7 +9412,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Instr);
         }
-        return invokePP(Instr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 475, __start, invokePP(Instr, __functionAddress));
     }
 
     // --- [ LLVMIsTailCall ] ---
@@ -8877,7 +9429,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(CallInst);
         }
-        return invokePI(CallInst, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 476, __start, invokePI(CallInst, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetTailCall ] ---
@@ -8892,7 +9445,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(CallInst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(CallInst, IsTailCall ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 477, __start);
     }
 
     // --- [ LLVMGetNormalDest ] ---
@@ -8908,7 +9463,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(InvokeInst);
         }
-        return invokePP(InvokeInst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 478, __start, invokePP(InvokeInst, __functionAddress));
     }
 
     // --- [ LLVMGetUnwindDest ] ---
@@ -8924,7 +9480,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(InvokeInst);
         }
-        return invokePP(InvokeInst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 479, __start, invokePP(InvokeInst, __functionAddress));
     }
 
     // --- [ LLVMSetNormalDest ] ---
@@ -8940,7 +9497,9 @@ public class LLVMCore {
             check(InvokeInst);
             check(B);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(InvokeInst, B, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 480, __start);
     }
 
     // --- [ LLVMSetUnwindDest ] ---
@@ -8956,7 +9515,9 @@ public class LLVMCore {
             check(InvokeInst);
             check(B);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(InvokeInst, B, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 481, __start);
     }
 
     // --- [ LLVMGetNumSuccessors ] ---
@@ -8968,7 +9529,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Term);
         }
-        return invokePI(Term, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 482, __start, invokePI(Term, __functionAddress));
     }
 
     // --- [ LLVMGetSuccessor ] ---
@@ -8980,7 +9542,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Term);
         }
-        return invokePP(Term, i, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 483, __start, invokePP(Term, i, __functionAddress));
     }
 
     // --- [ LLVMSetSuccessor ] ---
@@ -8992,7 +9555,9 @@ public class LLVMCore {
             check(Term);
             check(block);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Term, i, block, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 484, __start);
     }
 
     // --- [ LLVMIsConditional ] ---
@@ -9008,7 +9573,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Branch);
         }
-        return invokePI(Branch, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 485, __start, invokePI(Branch, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetCondition ] ---
@@ -9024,7 +9590,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Branch);
         }
-        return invokePP(Branch, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 486, __start, invokePP(Branch, __functionAddress));
     }
 
     // --- [ LLVMSetCondition ] ---
@@ -9040,7 +9607,9 @@ public class LLVMCore {
             check(Branch);
             check(Cond);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Branch, Cond, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 487, __start);
     }
 
     // --- [ LLVMGetSwitchDefaultDest ] ---
@@ -9056,7 +9625,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(SwitchInstr);
         }
-        return invokePP(SwitchInstr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 488, __start, invokePP(SwitchInstr, __functionAddress));
     }
 
     // --- [ LLVMGetAllocatedType ] ---
@@ -9068,7 +9638,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Alloca);
         }
-        return invokePP(Alloca, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 489, __start, invokePP(Alloca, __functionAddress));
     }
 
     // --- [ LLVMIsInBounds ] ---
@@ -9080,7 +9651,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(GEP);
         }
-        return invokePI(GEP, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 490, __start, invokePI(GEP, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetIsInBounds ] ---
@@ -9091,7 +9663,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(GEP);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GEP, InBounds ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 491, __start);
     }
 
     // --- [ LLVMAddIncoming ] ---
@@ -9102,7 +9676,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(PhiNode);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(PhiNode, IncomingValues, IncomingBlocks, Count, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 492, __start);
     }
 
     /** Add an incoming value to the end of a PHI list. */
@@ -9122,7 +9698,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(PhiNode);
         }
-        return invokePI(PhiNode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 493, __start, invokePI(PhiNode, __functionAddress));
     }
 
     // --- [ LLVMGetIncomingValue ] ---
@@ -9134,7 +9711,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(PhiNode);
         }
-        return invokePP(PhiNode, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 494, __start, invokePP(PhiNode, Index, __functionAddress));
     }
 
     // --- [ LLVMGetIncomingBlock ] ---
@@ -9146,7 +9724,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(PhiNode);
         }
-        return invokePP(PhiNode, Index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 495, __start, invokePP(PhiNode, Index, __functionAddress));
     }
 
     // --- [ LLVMGetNumIndices ] ---
@@ -9158,7 +9737,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePI(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 496, __start, invokePI(Inst, __functionAddress));
     }
 
     // --- [ LLVMGetIndices ] ---
@@ -9169,7 +9749,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Inst);
         }
-        return invokePP(Inst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 497, __start, invokePP(Inst, __functionAddress));
     }
 
     /**
@@ -9191,7 +9772,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(C);
         }
-        return invokePP(C, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 498, __start, invokePP(C, __functionAddress));
     }
 
     // --- [ LLVMCreateBuilder ] ---
@@ -9199,7 +9781,8 @@ public class LLVMCore {
     @NativeType("LLVMBuilderRef")
     public static long LLVMCreateBuilder() {
         long __functionAddress = Functions.CreateBuilder;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 499, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMPositionBuilder ] ---
@@ -9211,7 +9794,9 @@ public class LLVMCore {
             check(Block);
             check(Instr);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(Builder, Block, Instr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 500, __start);
     }
 
     // --- [ LLVMPositionBuilderBefore ] ---
@@ -9222,7 +9807,9 @@ public class LLVMCore {
             check(Builder);
             check(Instr);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Builder, Instr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 501, __start);
     }
 
     // --- [ LLVMPositionBuilderAtEnd ] ---
@@ -9233,7 +9820,9 @@ public class LLVMCore {
             check(Builder);
             check(Block);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Builder, Block, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 502, __start);
     }
 
     // --- [ LLVMGetInsertBlock ] ---
@@ -9244,7 +9833,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePP(Builder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 503, __start, invokePP(Builder, __functionAddress));
     }
 
     // --- [ LLVMClearInsertionPosition ] ---
@@ -9254,7 +9844,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Builder, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 504, __start);
     }
 
     // --- [ LLVMInsertIntoBuilder ] ---
@@ -9265,7 +9857,9 @@ public class LLVMCore {
             check(Builder);
             check(Instr);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Builder, Instr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 505, __start);
     }
 
     // --- [ LLVMInsertIntoBuilderWithName ] ---
@@ -9276,7 +9870,9 @@ public class LLVMCore {
             check(Builder);
             check(Instr);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(Builder, Instr, Name, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 506, __start);
     }
 
     public static void LLVMInsertIntoBuilderWithName(@NativeType("LLVMBuilderRef") long Builder, @NativeType("LLVMValueRef") long Instr, @NativeType("char const *") ByteBuffer Name) {
@@ -9304,7 +9900,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Builder, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 507, __start);
     }
 
     // --- [ LLVMSetCurrentDebugLocation ] ---
@@ -9316,7 +9914,9 @@ public class LLVMCore {
             check(Builder);
             check(L);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Builder, L, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 508, __start);
     }
 
     // --- [ LLVMGetCurrentDebugLocation ] ---
@@ -9327,7 +9927,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePP(Builder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 509, __start, invokePP(Builder, __functionAddress));
     }
 
     // --- [ LLVMSetInstDebugLocation ] ---
@@ -9338,7 +9939,9 @@ public class LLVMCore {
             check(Builder);
             check(Inst);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Builder, Inst, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 510, __start);
     }
 
     // --- [ LLVMBuildRetVoid ] ---
@@ -9350,7 +9953,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePP(Builder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 511, __start, invokePP(Builder, __functionAddress));
     }
 
     // --- [ LLVMBuildRet ] ---
@@ -9362,7 +9966,8 @@ public class LLVMCore {
             check(Builder);
             check(V);
         }
-        return invokePPP(Builder, V, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 512, __start, invokePPP(Builder, V, __functionAddress));
     }
 
     // --- [ LLVMBuildAggregateRet ] ---
@@ -9372,7 +9977,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPP(Builder, RetVals, N, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 513, __start, invokePPP(Builder, RetVals, N, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9389,7 +9995,8 @@ public class LLVMCore {
             check(Builder);
             check(Dest);
         }
-        return invokePPP(Builder, Dest, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 514, __start, invokePPP(Builder, Dest, __functionAddress));
     }
 
     // --- [ LLVMBuildCondBr ] ---
@@ -9403,7 +10010,8 @@ public class LLVMCore {
             check(Then);
             check(Else);
         }
-        return invokePPPPP(Builder, If, Then, Else, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 515, __start, invokePPPPP(Builder, If, Then, Else, __functionAddress));
     }
 
     // --- [ LLVMBuildSwitch ] ---
@@ -9416,7 +10024,8 @@ public class LLVMCore {
             check(V);
             check(Else);
         }
-        return invokePPPP(Builder, V, Else, NumCases, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 516, __start, invokePPPP(Builder, V, Else, NumCases, __functionAddress));
     }
 
     // --- [ LLVMBuildIndirectBr ] ---
@@ -9428,7 +10037,8 @@ public class LLVMCore {
             check(B);
             check(Addr);
         }
-        return invokePPP(B, Addr, NumDests, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 517, __start, invokePPP(B, Addr, NumDests, __functionAddress));
     }
 
     // --- [ LLVMBuildInvoke ] ---
@@ -9441,7 +10051,8 @@ public class LLVMCore {
             check(Then);
             check(Catch);
         }
-        return invokePPPPPPP(Builder, Fn, Args, NumArgs, Then, Catch, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 518, __start, invokePPPPPPP(Builder, Fn, Args, NumArgs, Then, Catch, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9477,7 +10088,8 @@ public class LLVMCore {
             check(Then);
             check(Catch);
         }
-        return invokePPPPPPPP(Builder, Ty, Fn, Args, NumArgs, Then, Catch, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 519, __start, invokePPPPPPPP(Builder, Ty, Fn, Args, NumArgs, Then, Catch, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -9510,7 +10122,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePP(Builder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 520, __start, invokePP(Builder, __functionAddress));
     }
 
     // --- [ LLVMBuildResume ] ---
@@ -9523,7 +10136,8 @@ public class LLVMCore {
             check(B);
             check(Exn);
         }
-        return invokePPP(B, Exn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 521, __start, invokePPP(B, Exn, __functionAddress));
     }
 
     // --- [ LLVMBuildLandingPad ] ---
@@ -9535,7 +10149,8 @@ public class LLVMCore {
             check(Ty);
             check(PersFn);
         }
-        return invokePPPPP(B, Ty, PersFn, NumClauses, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 522, __start, invokePPPPP(B, Ty, PersFn, NumClauses, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9569,7 +10184,8 @@ public class LLVMCore {
             check(CatchPad);
             check(BB);
         }
-        return invokePPPP(B, CatchPad, BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 523, __start, invokePPPP(B, CatchPad, BB, __functionAddress));
     }
 
     // --- [ LLVMBuildCatchRet ] ---
@@ -9583,7 +10199,8 @@ public class LLVMCore {
             check(CatchPad);
             check(BB);
         }
-        return invokePPPP(B, CatchPad, BB, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 524, __start, invokePPPP(B, CatchPad, BB, __functionAddress));
     }
 
     // --- [ LLVMBuildCatchPad ] ---
@@ -9595,7 +10212,8 @@ public class LLVMCore {
             check(B);
             check(ParentPad);
         }
-        return invokePPPPP(B, ParentPad, Args, NumArgs, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 525, __start, invokePPPPP(B, ParentPad, Args, NumArgs, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9627,7 +10245,8 @@ public class LLVMCore {
             check(B);
             check(ParentPad);
         }
-        return invokePPPPP(B, ParentPad, Args, NumArgs, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 526, __start, invokePPPPP(B, ParentPad, Args, NumArgs, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9660,7 +10279,8 @@ public class LLVMCore {
             check(ParentPad);
             check(UnwindBB);
         }
-        return invokePPPPP(B, ParentPad, UnwindBB, NumHandlers, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 527, __start, invokePPPPP(B, ParentPad, UnwindBB, NumHandlers, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9693,7 +10313,9 @@ public class LLVMCore {
             check(OnVal);
             check(Dest);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(Switch, OnVal, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 528, __start);
     }
 
     // --- [ LLVMAddDestination ] ---
@@ -9705,7 +10327,9 @@ public class LLVMCore {
             check(IndirectBr);
             check(Dest);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(IndirectBr, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 529, __start);
     }
 
     // --- [ LLVMGetNumClauses ] ---
@@ -9717,7 +10341,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(LandingPad);
         }
-        return invokePI(LandingPad, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 530, __start, invokePI(LandingPad, __functionAddress));
     }
 
     // --- [ LLVMGetClause ] ---
@@ -9729,7 +10354,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(LandingPad);
         }
-        return invokePP(LandingPad, Idx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 531, __start, invokePP(LandingPad, Idx, __functionAddress));
     }
 
     // --- [ LLVMAddClause ] ---
@@ -9741,7 +10367,9 @@ public class LLVMCore {
             check(LandingPad);
             check(ClauseVal);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(LandingPad, ClauseVal, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 532, __start);
     }
 
     // --- [ LLVMIsCleanup ] ---
@@ -9753,7 +10381,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(LandingPad);
         }
-        return invokePI(LandingPad, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 533, __start, invokePI(LandingPad, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetCleanup ] ---
@@ -9764,7 +10393,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(LandingPad);
         }
+        long __start = FunctionProfiler.start();
         invokePV(LandingPad, Val ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 534, __start);
     }
 
     // --- [ LLVMAddHandler ] ---
@@ -9777,7 +10408,9 @@ public class LLVMCore {
             check(CatchSwitch);
             check(Dest);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(CatchSwitch, Dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 535, __start);
     }
 
     // --- [ LLVMGetNumHandlers ] ---
@@ -9790,7 +10423,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(CatchSwitch);
         }
-        return invokePI(CatchSwitch, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 536, __start, invokePI(CatchSwitch, __functionAddress));
     }
 
     // --- [ LLVMGetHandlers ] ---
@@ -9802,7 +10436,9 @@ public class LLVMCore {
             check(__functionAddress);
             check(CatchSwitch);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(CatchSwitch, Handlers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 537, __start);
     }
 
     /**
@@ -9833,7 +10469,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(Funclet);
         }
-        return invokePP(Funclet, i, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 538, __start, invokePP(Funclet, i, __functionAddress));
     }
 
     // --- [ LLVMSetArgOperand ] ---
@@ -9846,7 +10483,9 @@ public class LLVMCore {
             check(Funclet);
             check(value);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Funclet, i, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 539, __start);
     }
 
     // --- [ LLVMGetParentCatchSwitch ] ---
@@ -9863,7 +10502,8 @@ public class LLVMCore {
             check(__functionAddress);
             check(CatchPad);
         }
-        return invokePP(CatchPad, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 540, __start, invokePP(CatchPad, __functionAddress));
     }
 
     // --- [ LLVMSetParentCatchSwitch ] ---
@@ -9880,7 +10520,9 @@ public class LLVMCore {
             check(CatchPad);
             check(CatchSwitch);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(CatchPad, CatchSwitch, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 541, __start);
     }
 
     // --- [ LLVMBuildAdd ] ---
@@ -9893,7 +10535,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 542, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     /** Arithmetic */
@@ -9927,7 +10570,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 543, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9959,7 +10603,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 544, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -9991,7 +10636,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 545, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10023,7 +10669,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 546, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10055,7 +10702,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 547, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10087,7 +10735,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 548, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10119,7 +10768,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 549, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10151,7 +10801,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 550, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10183,7 +10834,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 551, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10215,7 +10867,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 552, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10247,7 +10900,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 553, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10279,7 +10933,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 554, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10311,7 +10966,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 555, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10343,7 +10999,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 556, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10375,7 +11032,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 557, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10407,7 +11065,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 558, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10439,7 +11098,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 559, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10471,7 +11131,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 560, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10503,7 +11164,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 561, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10535,7 +11197,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 562, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10567,7 +11230,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 563, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10599,7 +11263,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 564, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10631,7 +11296,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 565, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10663,7 +11329,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 566, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10695,7 +11362,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 567, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10727,7 +11395,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(B, Op, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 568, __start, invokePPPPP(B, Op, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10758,7 +11427,8 @@ public class LLVMCore {
             check(Builder);
             check(V);
         }
-        return invokePPPP(Builder, V, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 569, __start, invokePPPP(Builder, V, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10789,7 +11459,8 @@ public class LLVMCore {
             check(B);
             check(V);
         }
-        return invokePPPP(B, V, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 570, __start, invokePPPP(B, V, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10820,7 +11491,8 @@ public class LLVMCore {
             check(B);
             check(V);
         }
-        return invokePPPP(B, V, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 571, __start, invokePPPP(B, V, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10851,7 +11523,8 @@ public class LLVMCore {
             check(Builder);
             check(V);
         }
-        return invokePPPP(Builder, V, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 572, __start, invokePPPP(Builder, V, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10882,7 +11555,8 @@ public class LLVMCore {
             check(Builder);
             check(V);
         }
-        return invokePPPP(Builder, V, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 573, __start, invokePPPP(Builder, V, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10914,7 +11588,8 @@ public class LLVMCore {
             check(Builder);
             check(Ty);
         }
-        return invokePPPP(Builder, Ty, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 574, __start, invokePPPP(Builder, Ty, Name, __functionAddress));
     }
 
     /** Memory */
@@ -10948,7 +11623,8 @@ public class LLVMCore {
             check(Ty);
             check(Val);
         }
-        return invokePPPPP(Builder, Ty, Val, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 575, __start, invokePPPPP(Builder, Ty, Val, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -10988,7 +11664,8 @@ public class LLVMCore {
             check(Val);
             check(Len);
         }
-        return invokePPPPP(B, Ptr, Val, Len, Align, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 576, __start, invokePPPPP(B, Ptr, Val, Len, Align, __functionAddress));
     }
 
     // --- [ LLVMBuildMemCpy ] ---
@@ -11008,7 +11685,8 @@ public class LLVMCore {
             check(Src);
             check(Size);
         }
-        return invokePPPPP(B, Dst, DstAlign, Src, SrcAlign, Size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 577, __start, invokePPPPP(B, Dst, DstAlign, Src, SrcAlign, Size, __functionAddress));
     }
 
     // --- [ LLVMBuildMemMove ] ---
@@ -11028,7 +11706,8 @@ public class LLVMCore {
             check(Src);
             check(Size);
         }
-        return invokePPPPP(B, Dst, DstAlign, Src, SrcAlign, Size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 578, __start, invokePPPPP(B, Dst, DstAlign, Src, SrcAlign, Size, __functionAddress));
     }
 
     // --- [ LLVMBuildAlloca ] ---
@@ -11039,7 +11718,8 @@ public class LLVMCore {
             check(Builder);
             check(Ty);
         }
-        return invokePPPP(Builder, Ty, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 579, __start, invokePPPP(Builder, Ty, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11071,7 +11751,8 @@ public class LLVMCore {
             check(Ty);
             check(Val);
         }
-        return invokePPPPP(Builder, Ty, Val, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 580, __start, invokePPPPP(Builder, Ty, Val, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11103,7 +11784,8 @@ public class LLVMCore {
             check(Builder);
             check(PointerVal);
         }
-        return invokePPP(Builder, PointerVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 581, __start, invokePPP(Builder, PointerVal, __functionAddress));
     }
 
     // --- [ LLVMBuildLoad ] ---
@@ -11114,7 +11796,8 @@ public class LLVMCore {
             check(Builder);
             check(PointerVal);
         }
-        return invokePPPP(Builder, PointerVal, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 582, __start, invokePPPP(Builder, PointerVal, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11148,7 +11831,8 @@ public class LLVMCore {
             check(Ty);
             check(PointerVal);
         }
-        return invokePPPPP(Builder, Ty, PointerVal, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 583, __start, invokePPPPP(Builder, Ty, PointerVal, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -11183,7 +11867,8 @@ public class LLVMCore {
             check(Val);
             check(Ptr);
         }
-        return invokePPPP(Builder, Val, Ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 584, __start, invokePPPP(Builder, Val, Ptr, __functionAddress));
     }
 
     // --- [ LLVMBuildGEP ] ---
@@ -11194,7 +11879,8 @@ public class LLVMCore {
             check(B);
             check(Pointer);
         }
-        return invokePPPPP(B, Pointer, Indices, NumIndices, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 585, __start, invokePPPPP(B, Pointer, Indices, NumIndices, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11225,7 +11911,8 @@ public class LLVMCore {
             check(B);
             check(Pointer);
         }
-        return invokePPPPP(B, Pointer, Indices, NumIndices, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 586, __start, invokePPPPP(B, Pointer, Indices, NumIndices, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11256,7 +11943,8 @@ public class LLVMCore {
             check(B);
             check(Pointer);
         }
-        return invokePPPP(B, Pointer, Idx, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 587, __start, invokePPPP(B, Pointer, Idx, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11290,7 +11978,8 @@ public class LLVMCore {
             check(Ty);
             check(Pointer);
         }
-        return invokePPPPPP(B, Ty, Pointer, Indices, NumIndices, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 588, __start, invokePPPPPP(B, Ty, Pointer, Indices, NumIndices, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -11326,7 +12015,8 @@ public class LLVMCore {
             check(Ty);
             check(Pointer);
         }
-        return invokePPPPPP(B, Ty, Pointer, Indices, NumIndices, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 589, __start, invokePPPPPP(B, Ty, Pointer, Indices, NumIndices, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -11362,7 +12052,8 @@ public class LLVMCore {
             check(Ty);
             check(Pointer);
         }
-        return invokePPPPP(B, Ty, Pointer, Idx, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 590, __start, invokePPPPP(B, Ty, Pointer, Idx, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -11394,7 +12085,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(B);
         }
-        return invokePPPP(B, Str, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 591, __start, invokePPPP(B, Str, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11427,7 +12119,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(B);
         }
-        return invokePPPP(B, Str, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 592, __start, invokePPPP(B, Str, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11461,7 +12154,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemoryAccessInst);
         }
-        return invokePI(MemoryAccessInst, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 593, __start, invokePI(MemoryAccessInst, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetVolatile ] ---
@@ -11471,7 +12165,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemoryAccessInst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(MemoryAccessInst, IsVolatile ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 594, __start);
     }
 
     // --- [ LLVMGetOrdering ] ---
@@ -11482,7 +12178,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemoryAccessInst);
         }
-        return invokePI(MemoryAccessInst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 595, __start, invokePI(MemoryAccessInst, __functionAddress));
     }
 
     // --- [ LLVMSetOrdering ] ---
@@ -11492,7 +12189,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemoryAccessInst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(MemoryAccessInst, Ordering, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 596, __start);
     }
 
     // --- [ LLVMBuildTrunc ] ---
@@ -11505,7 +12204,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 597, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     /** Casts */
@@ -11539,7 +12239,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 598, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11571,7 +12272,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 599, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11603,7 +12305,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 600, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11635,7 +12338,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 601, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11667,7 +12371,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 602, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11699,7 +12404,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 603, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11731,7 +12437,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 604, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11763,7 +12470,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 605, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11795,7 +12503,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 606, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11827,7 +12536,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 607, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11859,7 +12569,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 608, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11891,7 +12602,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 609, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11923,7 +12635,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 610, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11955,7 +12668,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 611, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -11987,7 +12701,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 612, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12019,7 +12734,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(B, Op, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 613, __start, invokePPPPP(B, Op, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12051,7 +12767,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 614, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12085,7 +12802,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, IsSigned, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 615, __start, invokePPPPP(Builder, Val, DestTy, IsSigned, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -12119,7 +12837,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 616, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12151,7 +12870,8 @@ public class LLVMCore {
             check(Val);
             check(DestTy);
         }
-        return invokePPPPP(Builder, Val, DestTy, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 617, __start, invokePPPPP(Builder, Val, DestTy, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12184,7 +12904,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, Op, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 618, __start, invokePPPPP(Builder, Op, LHS, RHS, Name, __functionAddress));
     }
 
     /** Comparisons */
@@ -12218,7 +12939,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, Op, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 619, __start, invokePPPPP(Builder, Op, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12250,7 +12972,8 @@ public class LLVMCore {
             check(Builder);
             check(Ty);
         }
-        return invokePPPP(Builder, Ty, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 620, __start, invokePPPP(Builder, Ty, Name, __functionAddress));
     }
 
     /** Miscellaneous instructions */
@@ -12283,7 +13006,8 @@ public class LLVMCore {
             check(Builder);
             check(Fn);
         }
-        return invokePPPPP(Builder, Fn, Args, NumArgs, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 621, __start, invokePPPPP(Builder, Fn, Args, NumArgs, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12317,7 +13041,8 @@ public class LLVMCore {
             check(Ty);
             check(Fn);
         }
-        return invokePPPPPP(Builder, Ty, Fn, Args, NumArgs, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 622, __start, invokePPPPPP(Builder, Ty, Fn, Args, NumArgs, Name, __functionAddress));
     }
 
     /** @since 8.0 */
@@ -12352,7 +13077,8 @@ public class LLVMCore {
             check(Then);
             check(Else);
         }
-        return invokePPPPPP(Builder, If, Then, Else, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 623, __start, invokePPPPPP(Builder, If, Then, Else, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12384,7 +13110,8 @@ public class LLVMCore {
             check(List);
             check(Ty);
         }
-        return invokePPPPP(Builder, List, Ty, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 624, __start, invokePPPPP(Builder, List, Ty, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12416,7 +13143,8 @@ public class LLVMCore {
             check(VecVal);
             check(Index);
         }
-        return invokePPPPP(Builder, VecVal, Index, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 625, __start, invokePPPPP(Builder, VecVal, Index, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12449,7 +13177,8 @@ public class LLVMCore {
             check(EltVal);
             check(Index);
         }
-        return invokePPPPPP(Builder, VecVal, EltVal, Index, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 626, __start, invokePPPPPP(Builder, VecVal, EltVal, Index, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12482,7 +13211,8 @@ public class LLVMCore {
             check(V2);
             check(Mask);
         }
-        return invokePPPPPP(Builder, V1, V2, Mask, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 627, __start, invokePPPPPP(Builder, V1, V2, Mask, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12513,7 +13243,8 @@ public class LLVMCore {
             check(Builder);
             check(AggVal);
         }
-        return invokePPPP(Builder, AggVal, Index, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 628, __start, invokePPPP(Builder, AggVal, Index, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12545,7 +13276,8 @@ public class LLVMCore {
             check(AggVal);
             check(EltVal);
         }
-        return invokePPPPP(Builder, AggVal, EltVal, Index, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 629, __start, invokePPPPP(Builder, AggVal, EltVal, Index, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12576,7 +13308,8 @@ public class LLVMCore {
             check(Builder);
             check(Val);
         }
-        return invokePPPP(Builder, Val, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 630, __start, invokePPPP(Builder, Val, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12607,7 +13340,8 @@ public class LLVMCore {
             check(Builder);
             check(Val);
         }
-        return invokePPPP(Builder, Val, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 631, __start, invokePPPP(Builder, Val, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12639,7 +13373,8 @@ public class LLVMCore {
             check(LHS);
             check(RHS);
         }
-        return invokePPPPP(Builder, LHS, RHS, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 632, __start, invokePPPPP(Builder, LHS, RHS, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12669,7 +13404,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(B);
         }
-        return invokePPP(B, ordering, singleThread, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 633, __start, invokePPP(B, ordering, singleThread, Name, __functionAddress));
     }
 
     @NativeType("LLVMValueRef")
@@ -12702,7 +13438,8 @@ public class LLVMCore {
             check(PTR);
             check(Val);
         }
-        return invokePPPP(B, op, PTR, Val, ordering, singleThread ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 634, __start, invokePPPP(B, op, PTR, Val, ordering, singleThread ? 1 : 0, __functionAddress));
     }
 
     // --- [ LLVMBuildAtomicCmpXchg ] ---
@@ -12716,7 +13453,8 @@ public class LLVMCore {
             check(Cmp);
             check(New);
         }
-        return invokePPPPP(B, Ptr, Cmp, New, SuccessOrdering, FailureOrdering, SingleThread ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 635, __start, invokePPPPP(B, Ptr, Cmp, New, SuccessOrdering, FailureOrdering, SingleThread ? 1 : 0, __functionAddress));
     }
 
     // --- [ LLVMIsAtomicSingleThread ] ---
@@ -12727,7 +13465,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(AtomicInst);
         }
-        return invokePI(AtomicInst, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 636, __start, invokePI(AtomicInst, __functionAddress)) != 0;
     }
 
     // --- [ LLVMSetAtomicSingleThread ] ---
@@ -12737,7 +13476,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(AtomicInst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(AtomicInst, SingleThread ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 637, __start);
     }
 
     // --- [ LLVMGetCmpXchgSuccessOrdering ] ---
@@ -12748,7 +13489,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(CmpXchgInst);
         }
-        return invokePI(CmpXchgInst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 638, __start, invokePI(CmpXchgInst, __functionAddress));
     }
 
     // --- [ LLVMSetCmpXchgSuccessOrdering ] ---
@@ -12758,7 +13500,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(CmpXchgInst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(CmpXchgInst, Ordering, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 639, __start);
     }
 
     // --- [ LLVMGetCmpXchgFailureOrdering ] ---
@@ -12769,7 +13513,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(CmpXchgInst);
         }
-        return invokePI(CmpXchgInst, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 640, __start, invokePI(CmpXchgInst, __functionAddress));
     }
 
     // --- [ LLVMSetCmpXchgFailureOrdering ] ---
@@ -12779,7 +13524,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(CmpXchgInst);
         }
+        long __start = FunctionProfiler.start();
         invokePV(CmpXchgInst, Ordering, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 641, __start);
     }
 
     // --- [ LLVMCreateModuleProviderForExistingModule ] ---
@@ -12794,7 +13541,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 642, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMDisposeModuleProvider ] ---
@@ -12805,14 +13553,17 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePV(M, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 643, __start);
     }
 
     // --- [ LLVMCreateMemoryBufferWithContentsOfFile ] ---
 
     public static int nLLVMCreateMemoryBufferWithContentsOfFile(long Path, long OutMemBuf, long OutMessage) {
         long __functionAddress = Functions.CreateMemoryBufferWithContentsOfFile;
-        return invokePPPI(Path, OutMemBuf, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 644, __start, invokePPPI(Path, OutMemBuf, OutMessage, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -12845,7 +13596,8 @@ public class LLVMCore {
 
     public static int nLLVMCreateMemoryBufferWithSTDIN(long OutMemBuf, long OutMessage) {
         long __functionAddress = Functions.CreateMemoryBufferWithSTDIN;
-        return invokePPI(OutMemBuf, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 645, __start, invokePPI(OutMemBuf, OutMessage, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -12861,7 +13613,8 @@ public class LLVMCore {
 
     public static long nLLVMCreateMemoryBufferWithMemoryRange(long InputData, long InputDataLength, long BufferName, int RequiresNullTerminator) {
         long __functionAddress = Functions.CreateMemoryBufferWithMemoryRange;
-        return invokePPPP(InputData, InputDataLength, BufferName, RequiresNullTerminator, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 646, __start, invokePPPP(InputData, InputDataLength, BufferName, RequiresNullTerminator, __functionAddress));
     }
 
     @NativeType("LLVMMemoryBufferRef")
@@ -12888,7 +13641,8 @@ public class LLVMCore {
 
     public static long nLLVMCreateMemoryBufferWithMemoryRangeCopy(long InputData, long InputDataLength, long BufferName) {
         long __functionAddress = Functions.CreateMemoryBufferWithMemoryRangeCopy;
-        return invokePPPP(InputData, InputDataLength, BufferName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 647, __start, invokePPPP(InputData, InputDataLength, BufferName, __functionAddress));
     }
 
     @NativeType("LLVMMemoryBufferRef")
@@ -12918,7 +13672,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePP(MemBuf, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 648, __start, invokePP(MemBuf, __functionAddress));
     }
 
     @Nullable
@@ -12936,7 +13691,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePP(MemBuf, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 649, __start, invokePP(MemBuf, __functionAddress));
     }
 
     // --- [ LLVMDisposeMemoryBuffer ] ---
@@ -12946,7 +13702,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(MemBuf);
         }
+        long __start = FunctionProfiler.start();
         invokePV(MemBuf, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 650, __start);
     }
 
     // --- [ LLVMGetGlobalPassRegistry ] ---
@@ -12955,7 +13713,8 @@ public class LLVMCore {
     @NativeType("LLVMPassRegistryRef")
     public static long LLVMGetGlobalPassRegistry() {
         long __functionAddress = Functions.GetGlobalPassRegistry;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 651, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMCreatePassManager ] ---
@@ -12964,7 +13723,8 @@ public class LLVMCore {
     @NativeType("LLVMPassManagerRef")
     public static long LLVMCreatePassManager() {
         long __functionAddress = Functions.CreatePassManager;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 652, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMCreateFunctionPassManagerForModule ] ---
@@ -12979,7 +13739,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 653, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMCreateFunctionPassManager ] ---
@@ -12991,7 +13752,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(MP);
         }
-        return invokePP(MP, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 654, __start, invokePP(MP, __functionAddress));
     }
 
     // --- [ LLVMRunPassManager ] ---
@@ -13007,7 +13769,8 @@ public class LLVMCore {
             check(PM);
             check(M);
         }
-        return invokePPI(PM, M, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 655, __start, invokePPI(PM, M, __functionAddress)) != 0;
     }
 
     // --- [ LLVMInitializeFunctionPassManager ] ---
@@ -13019,7 +13782,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(FPM);
         }
-        return invokePI(FPM, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 656, __start, invokePI(FPM, __functionAddress)) != 0;
     }
 
     // --- [ LLVMRunFunctionPassManager ] ---
@@ -13035,7 +13799,8 @@ public class LLVMCore {
             check(FPM);
             check(F);
         }
-        return invokePPI(FPM, F, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 657, __start, invokePPI(FPM, F, __functionAddress)) != 0;
     }
 
     // --- [ LLVMFinalizeFunctionPassManager ] ---
@@ -13047,7 +13812,8 @@ public class LLVMCore {
         if (CHECKS) {
             check(FPM);
         }
-        return invokePI(FPM, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 658, __start, invokePI(FPM, __functionAddress)) != 0;
     }
 
     // --- [ LLVMDisposePassManager ] ---
@@ -13058,7 +13824,9 @@ public class LLVMCore {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 659, __start);
     }
 
     // --- [ LLVMStartMultithreaded ] ---
@@ -13070,7 +13838,8 @@ public class LLVMCore {
     @NativeType("LLVMBool")
     public static boolean LLVMStartMultithreaded() {
         long __functionAddress = Functions.StartMultithreaded;
-        return invokeI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 660, __start, invokeI(__functionAddress)) != 0;
     }
 
     // --- [ LLVMStopMultithreaded ] ---
@@ -13078,7 +13847,9 @@ public class LLVMCore {
     /** Deprecated: Multi-threading can only be enabled/disabled with the compile time define {@code LLVM_ENABLE_THREADS}. */
     public static void LLVMStopMultithreaded() {
         long __functionAddress = Functions.StopMultithreaded;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 661, __start);
     }
 
     // --- [ LLVMIsMultithreaded ] ---
@@ -13087,7 +13858,8 @@ public class LLVMCore {
     @NativeType("LLVMBool")
     public static boolean LLVMIsMultithreaded() {
         long __functionAddress = Functions.IsMultithreaded;
-        return invokeI(__functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 662, __start, invokeI(__functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
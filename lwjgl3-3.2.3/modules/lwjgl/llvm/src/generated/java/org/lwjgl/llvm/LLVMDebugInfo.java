@@ -287,6 +287,8 @@ public class LLVMDebugInfo {
         LLVMDIMacroMetadataKind                      = 29,
         LLVMDIMacroFileMetadataKind                  = 30;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMDebugInfo.class, "LLVMDebugMetadataVersion,LLVMGetModuleDebugMetadataVersion,LLVMStripModuleDebugInfo,LLVMCreateDIBuilderDisallowUnresolved,LLVMCreateDIBuilder,LLVMDisposeDIBuilder,LLVMDIBuilderFinalize,LLVMDIBuilderCreateCompileUnit,LLVMDIBuilderCreateFile,LLVMDIBuilderCreateModule,LLVMDIBuilderCreateNameSpace,LLVMDIBuilderCreateFunction,LLVMDIBuilderCreateLexicalBlock,LLVMDIBuilderCreateLexicalBlockFile,LLVMDIBuilderCreateImportedModuleFromNamespace,LLVMDIBuilderCreateImportedModuleFromAlias,LLVMDIBuilderCreateImportedModuleFromModule,LLVMDIBuilderCreateImportedDeclaration,LLVMDIBuilderCreateDebugLocation,LLVMDILocationGetLine,LLVMDILocationGetColumn,LLVMDILocationGetScope,LLVMDIBuilderGetOrCreateTypeArray,LLVMDIBuilderCreateSubroutineType,LLVMDIBuilderCreateEnumerationType,LLVMDIBuilderCreateUnionType,LLVMDIBuilderCreateArrayType,LLVMDIBuilderCreateVectorType,LLVMDIBuilderCreateUnspecifiedType,LLVMDIBuilderCreateBasicType,LLVMDIBuilderCreatePointerType,LLVMDIBuilderCreateStructType,LLVMDIBuilderCreateMemberType,LLVMDIBuilderCreateStaticMemberType,LLVMDIBuilderCreateMemberPointerType,LLVMDIBuilderCreateObjCIVar,LLVMDIBuilderCreateObjCProperty,LLVMDIBuilderCreateObjectPointerType,LLVMDIBuilderCreateQualifiedType,LLVMDIBuilderCreateReferenceType,LLVMDIBuilderCreateNullPtrType,LLVMDIBuilderCreateTypedef,LLVMDIBuilderCreateInheritance,LLVMDIBuilderCreateForwardDecl,LLVMDIBuilderCreateReplaceableCompositeType,LLVMDIBuilderCreateBitFieldMemberType,LLVMDIBuilderCreateClassType,LLVMDIBuilderCreateArtificialType,LLVMDITypeGetName,LLVMDITypeGetSizeInBits,LLVMDITypeGetOffsetInBits,LLVMDITypeGetAlignInBits,LLVMDITypeGetLine,LLVMDITypeGetFlags,LLVMDIBuilderGetOrCreateSubrange,LLVMDIBuilderGetOrCreateArray,LLVMDIBuilderCreateExpression,LLVMDIBuilderCreateConstantValueExpression,LLVMDIBuilderCreateGlobalVariableExpression,LLVMTemporaryMDNode,LLVMDisposeTemporaryMDNode,LLVMMetadataReplaceAllUsesWith,LLVMDIBuilderCreateTempGlobalVariableFwdDecl,LLVMDIBuilderInsertDeclareBefore,LLVMDIBuilderInsertDeclareAtEnd,LLVMDIBuilderInsertDbgValueBefore,LLVMDIBuilderInsertDbgValueAtEnd,LLVMDIBuilderCreateAutoVariable,LLVMDIBuilderCreateParameterVariable,LLVMGetSubprogram,LLVMSetSubprogram,LLVMGetMetadataKind");
+
     protected LLVMDebugInfo() {
         throw new UnsupportedOperationException();
     }
@@ -379,7 +381,8 @@ public class LLVMDebugInfo {
     @NativeType("unsigned int")
     public static int LLVMDebugMetadataVersion() {
         long __functionAddress = Functions.DebugMetadataVersion;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(__functionAddress));
     }
 
     // --- [ LLVMGetModuleDebugMetadataVersion ] ---
@@ -391,7 +394,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Module);
         }
-        return invokePI(Module, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePI(Module, __functionAddress));
     }
 
     // --- [ LLVMStripModuleDebugInfo ] ---
@@ -406,7 +410,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Module);
         }
-        return invokePI(Module, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePI(Module, __functionAddress)) != 0;
     }
 
     // --- [ LLVMCreateDIBuilderDisallowUnresolved ] ---
@@ -418,7 +423,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMCreateDIBuilder ] ---
@@ -433,7 +439,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMDisposeDIBuilder ] ---
@@ -450,7 +457,9 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Builder, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ LLVMDIBuilderFinalize ] ---
@@ -461,7 +470,9 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Builder, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ LLVMDIBuilderCreateCompileUnit ] ---
@@ -479,7 +490,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(FileRef);
         }
-        return invokePPPPPPPPP(Builder, Lang, FileRef, Producer, ProducerLen, isOptimized, Flags, FlagsLen, RuntimeVer, SplitName, SplitNameLen, Kind, DWOId, SplitDebugInlining, DebugInfoForProfiling, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePPPPPPPPP(Builder, Lang, FileRef, Producer, ProducerLen, isOptimized, Flags, FlagsLen, RuntimeVer, SplitName, SplitNameLen, Kind, DWOId, SplitDebugInlining, DebugInfoForProfiling, __functionAddress));
     }
 
     /**
@@ -548,7 +560,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPPPPP(Builder, Filename, FilenameLen, Directory, DirectoryLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPPPPP(Builder, Filename, FilenameLen, Directory, DirectoryLen, __functionAddress));
     }
 
     /**
@@ -600,7 +613,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(ParentScope);
         }
-        return invokePPPPPPPPPPP(Builder, ParentScope, Name, NameLen, ConfigMacros, ConfigMacrosLen, IncludePath, IncludePathLen, ISysRoot, ISysRootLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPPPPPPPPPP(Builder, ParentScope, Name, NameLen, ConfigMacros, ConfigMacrosLen, IncludePath, IncludePathLen, ISysRoot, ISysRootLen, __functionAddress));
     }
 
     /**
@@ -659,7 +673,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(ParentScope);
         }
-        return invokePPPPP(Builder, ParentScope, Name, NameLen, ExportSymbols, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPPP(Builder, ParentScope, Name, NameLen, ExportSymbols, __functionAddress));
     }
 
     /**
@@ -711,7 +726,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Ty);
         }
-        return invokePPPPPPPPP(Builder, Scope, Name, NameLen, LinkageName, LinkageNameLen, File, LineNo, Ty, IsLocalToUnit, IsDefinition, ScopeLine, Flags, IsOptimized, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPPPPPPP(Builder, Scope, Name, NameLen, LinkageName, LinkageNameLen, File, LineNo, Ty, IsLocalToUnit, IsDefinition, ScopeLine, Flags, IsOptimized, __functionAddress));
     }
 
     /**
@@ -784,7 +800,8 @@ public class LLVMDebugInfo {
             check(Scope);
             check(File);
         }
-        return invokePPPP(Builder, Scope, File, Line, Column, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPPP(Builder, Scope, File, Line, Column, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateLexicalBlockFile ] ---
@@ -805,7 +822,8 @@ public class LLVMDebugInfo {
             check(Scope);
             check(File);
         }
-        return invokePPPP(Builder, Scope, File, Discriminator, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPPP(Builder, Scope, File, Discriminator, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateImportedModuleFromNamespace ] ---
@@ -827,7 +845,8 @@ public class LLVMDebugInfo {
             check(NS);
             check(File);
         }
-        return invokePPPPP(Builder, Scope, NS, File, Line, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPPPP(Builder, Scope, NS, File, Line, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateImportedModuleFromAlias ] ---
@@ -850,7 +869,8 @@ public class LLVMDebugInfo {
             check(ImportedEntity);
             check(File);
         }
-        return invokePPPPP(Builder, Scope, ImportedEntity, File, Line, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePPPPP(Builder, Scope, ImportedEntity, File, Line, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateImportedModuleFromModule ] ---
@@ -873,7 +893,8 @@ public class LLVMDebugInfo {
             check(M);
             check(File);
         }
-        return invokePPPPP(Builder, Scope, M, File, Line, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePPPPP(Builder, Scope, M, File, Line, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateImportedDeclaration ] ---
@@ -891,7 +912,8 @@ public class LLVMDebugInfo {
             check(Decl);
             check(File);
         }
-        return invokePPPPPPP(Builder, Scope, Decl, File, Line, Name, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePPPPPPP(Builder, Scope, Decl, File, Line, Name, NameLen, __functionAddress));
     }
 
     /**
@@ -953,7 +975,8 @@ public class LLVMDebugInfo {
             check(Scope);
             check(InlinedAt);
         }
-        return invokePPPP(Ctx, Line, Column, Scope, InlinedAt, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePPPP(Ctx, Line, Column, Scope, InlinedAt, __functionAddress));
     }
 
     // --- [ LLVMDILocationGetLine ] ---
@@ -969,7 +992,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Location);
         }
-        return invokePI(Location, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokePI(Location, __functionAddress));
     }
 
     // --- [ LLVMDILocationGetColumn ] ---
@@ -985,7 +1009,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Location);
         }
-        return invokePI(Location, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePI(Location, __functionAddress));
     }
 
     // --- [ LLVMDILocationGetScope ] ---
@@ -1001,7 +1026,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Location);
         }
-        return invokePP(Location, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokePP(Location, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderGetOrCreateTypeArray ] ---
@@ -1016,7 +1042,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPPP(Builder, Data, NumElements, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokePPPP(Builder, Data, NumElements, __functionAddress));
     }
 
     /**
@@ -1043,7 +1070,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(File);
         }
-        return invokePPPP(Builder, File, ParameterTypes, NumParameterTypes, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokePPPP(Builder, File, ParameterTypes, NumParameterTypes, Flags, __functionAddress));
     }
 
     /**
@@ -1075,7 +1103,8 @@ public class LLVMDebugInfo {
             check(File);
             check(ClassTy);
         }
-        return invokePPPPPJPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, Elements, NumElements, ClassTy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokePPPPPJPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, Elements, NumElements, ClassTy, __functionAddress));
     }
 
     /**
@@ -1137,7 +1166,8 @@ public class LLVMDebugInfo {
             check(Scope);
             check(File);
         }
-        return invokePPPPPJPPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, Flags, Elements, NumElements, RunTimeLang, UniqueId, UniqueIdLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePPPPPJPPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, Flags, Elements, NumElements, RunTimeLang, UniqueId, UniqueIdLen, __functionAddress));
     }
 
     /**
@@ -1202,7 +1232,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(Ty);
         }
-        return invokePJPPP(Builder, Size, AlignInBits, Ty, Subscripts, NumSubscripts, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokePJPPP(Builder, Size, AlignInBits, Ty, Subscripts, NumSubscripts, __functionAddress));
     }
 
     /**
@@ -1232,7 +1263,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(Ty);
         }
-        return invokePJPPP(Builder, Size, AlignInBits, Ty, Subscripts, NumSubscripts, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePJPPP(Builder, Size, AlignInBits, Ty, Subscripts, NumSubscripts, __functionAddress));
     }
 
     /**
@@ -1261,7 +1293,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPPP(Builder, Name, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, invokePPPP(Builder, Name, NameLen, __functionAddress));
     }
 
     /**
@@ -1305,7 +1338,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPPJP(Builder, Name, NameLen, SizeInBits, Encoding, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, invokePPPJP(Builder, Name, NameLen, SizeInBits, Encoding, Flags, __functionAddress));
     }
 
     /**
@@ -1356,7 +1390,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(PointeeTy);
         }
-        return invokePPJPPP(Builder, PointeeTy, SizeInBits, AlignInBits, AddressSpace, Name, NameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, invokePPJPPP(Builder, PointeeTy, SizeInBits, AlignInBits, AddressSpace, Name, NameLen, __functionAddress));
     }
 
     /**
@@ -1414,7 +1449,8 @@ public class LLVMDebugInfo {
             check(DerivedFrom);
             check(VTableHolder);
         }
-        return invokePPPPPJPPPPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, Flags, DerivedFrom, Elements, NumElements, RunTimeLang, VTableHolder, UniqueId, UniqueIdLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, invokePPPPPJPPPPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, Flags, DerivedFrom, Elements, NumElements, RunTimeLang, VTableHolder, UniqueId, UniqueIdLen, __functionAddress));
     }
 
     /**
@@ -1483,7 +1519,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Ty);
         }
-        return invokePPPPPJJPP(Builder, Scope, Name, NameLen, File, LineNo, SizeInBits, AlignInBits, OffsetInBits, Flags, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, invokePPPPPJJPP(Builder, Scope, Name, NameLen, File, LineNo, SizeInBits, AlignInBits, OffsetInBits, Flags, Ty, __functionAddress));
     }
 
     /**
@@ -1547,7 +1584,8 @@ public class LLVMDebugInfo {
             check(Type);
             check(ConstantVal);
         }
-        return invokePPPPPPPP(Builder, Scope, Name, NameLen, File, LineNumber, Type, Flags, ConstantVal, AlignInBits, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePPPPPPPP(Builder, Scope, Name, NameLen, File, LineNumber, Type, Flags, ConstantVal, AlignInBits, __functionAddress));
     }
 
     /**
@@ -1613,7 +1651,8 @@ public class LLVMDebugInfo {
             check(PointeeType);
             check(ClassType);
         }
-        return invokePPPJP(Builder, PointeeType, ClassType, SizeInBits, AlignInBits, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, invokePPPJP(Builder, PointeeType, ClassType, SizeInBits, AlignInBits, Flags, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateObjCIVar ] ---
@@ -1631,7 +1670,8 @@ public class LLVMDebugInfo {
             check(Ty);
             check(PropertyNode);
         }
-        return invokePPPPJJPPP(Builder, Name, NameLen, File, LineNo, SizeInBits, AlignInBits, OffsetInBits, Flags, Ty, PropertyNode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePPPPJJPPP(Builder, Name, NameLen, File, LineNo, SizeInBits, AlignInBits, OffsetInBits, Flags, Ty, PropertyNode, __functionAddress));
     }
 
     /**
@@ -1695,7 +1735,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Ty);
         }
-        return invokePPPPPPPPPP(Builder, Name, NameLen, File, LineNo, GetterName, GetterNameLen, SetterName, SetterNameLen, PropertyAttributes, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, invokePPPPPPPPPP(Builder, Name, NameLen, File, LineNo, GetterName, GetterNameLen, SetterName, SetterNameLen, PropertyAttributes, Ty, __functionAddress));
     }
 
     /**
@@ -1758,7 +1799,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(Type);
         }
-        return invokePPP(Builder, Type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, invokePPP(Builder, Type, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateQualifiedType ] ---
@@ -1777,7 +1819,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(Type);
         }
-        return invokePPP(Builder, Tag, Type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, invokePPP(Builder, Tag, Type, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateReferenceType ] ---
@@ -1796,7 +1839,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(Type);
         }
-        return invokePPP(Builder, Tag, Type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, invokePPP(Builder, Tag, Type, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateNullPtrType ] ---
@@ -1812,7 +1856,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePP(Builder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokePP(Builder, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateTypedef ] ---
@@ -1826,7 +1871,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Scope);
         }
-        return invokePPPPPPP(Builder, Type, Name, NameLen, File, LineNo, Scope, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, invokePPPPPPP(Builder, Type, Name, NameLen, File, LineNo, Scope, __functionAddress));
     }
 
     /**
@@ -1886,7 +1932,8 @@ public class LLVMDebugInfo {
             check(Ty);
             check(BaseTy);
         }
-        return invokePPPJP(Builder, Ty, BaseTy, BaseOffset, VBPtrOffset, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, invokePPPJP(Builder, Ty, BaseTy, BaseOffset, VBPtrOffset, Flags, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateForwardDecl ] ---
@@ -1904,7 +1951,8 @@ public class LLVMDebugInfo {
             check(Scope);
             check(File);
         }
-        return invokePPPPPJPPP(Builder, Tag, Name, NameLen, Scope, File, Line, RuntimeLang, SizeInBits, AlignInBits, UniqueIdentifier, UniqueIdentifierLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, invokePPPPPJPPP(Builder, Tag, Name, NameLen, Scope, File, Line, RuntimeLang, SizeInBits, AlignInBits, UniqueIdentifier, UniqueIdentifierLen, __functionAddress));
     }
 
     /**
@@ -1969,7 +2017,8 @@ public class LLVMDebugInfo {
             check(Scope);
             check(File);
         }
-        return invokePPPPPJPPP(Builder, Tag, Name, NameLen, Scope, File, Line, RuntimeLang, SizeInBits, AlignInBits, Flags, UniqueIdentifier, UniqueIdentifierLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, invokePPPPPJPPP(Builder, Tag, Name, NameLen, Scope, File, Line, RuntimeLang, SizeInBits, AlignInBits, Flags, UniqueIdentifier, UniqueIdentifierLen, __functionAddress));
     }
 
     /**
@@ -2036,7 +2085,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Type);
         }
-        return invokePPPPPJJJPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, OffsetInBits, StorageOffsetInBits, Flags, Type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, invokePPPPPJJJPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, OffsetInBits, StorageOffsetInBits, Flags, Type, __functionAddress));
     }
 
     /**
@@ -2103,7 +2153,8 @@ public class LLVMDebugInfo {
             check(VTableHolder);
             check(TemplateParamsNode);
         }
-        return invokePPPPPJJPPPPPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, OffsetInBits, Flags, DerivedFrom, Elements, NumElements, VTableHolder, TemplateParamsNode, UniqueIdentifier, UniqueIdentifierLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, invokePPPPPJJPPPPPPP(Builder, Scope, Name, NameLen, File, LineNumber, SizeInBits, AlignInBits, OffsetInBits, Flags, DerivedFrom, Elements, NumElements, VTableHolder, TemplateParamsNode, UniqueIdentifier, UniqueIdentifierLen, __functionAddress));
     }
 
     /**
@@ -2174,7 +2225,8 @@ public class LLVMDebugInfo {
             check(Builder);
             check(Type);
         }
-        return invokePPP(Builder, Type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, invokePPP(Builder, Type, __functionAddress));
     }
 
     // --- [ LLVMDITypeGetName ] ---
@@ -2189,7 +2241,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(DType);
         }
-        return invokePPP(DType, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, invokePPP(DType, Length, __functionAddress));
     }
 
     /**
@@ -2223,7 +2276,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(DType);
         }
-        return invokePJ(DType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, invokePJ(DType, __functionAddress));
     }
 
     // --- [ LLVMDITypeGetOffsetInBits ] ---
@@ -2239,7 +2293,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(DType);
         }
-        return invokePJ(DType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokePJ(DType, __functionAddress));
     }
 
     // --- [ LLVMDITypeGetAlignInBits ] ---
@@ -2255,7 +2310,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(DType);
         }
-        return invokePI(DType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, invokePI(DType, __functionAddress));
     }
 
     // --- [ LLVMDITypeGetLine ] ---
@@ -2271,7 +2327,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(DType);
         }
-        return invokePI(DType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, invokePI(DType, __functionAddress));
     }
 
     // --- [ LLVMDITypeGetFlags ] ---
@@ -2287,7 +2344,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(DType);
         }
-        return invokePI(DType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, invokePI(DType, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderGetOrCreateSubrange ] ---
@@ -2305,7 +2363,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePJJP(Builder, LowerBound, Count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, invokePJJP(Builder, LowerBound, Count, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderGetOrCreateArray ] ---
@@ -2320,7 +2379,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPPP(Builder, Data, NumElements, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, invokePPPP(Builder, Data, NumElements, __functionAddress));
     }
 
     /**
@@ -2346,7 +2406,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePPPP(Builder, Addr, Length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, invokePPPP(Builder, Addr, Length, __functionAddress));
     }
 
     /**
@@ -2374,7 +2435,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Builder);
         }
-        return invokePJP(Builder, Value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, invokePJP(Builder, Value, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateGlobalVariableExpression ] ---
@@ -2395,7 +2457,8 @@ public class LLVMDebugInfo {
             check(Expr);
             check(Decl);
         }
-        return invokePPPPPPPPPPP(Builder, Scope, Name, NameLen, Linkage, LinkLen, File, LineNo, Ty, LocalToUnit, Expr, Decl, AlignInBits, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePPPPPPPPPPP(Builder, Scope, Name, NameLen, Linkage, LinkLen, File, LineNo, Ty, LocalToUnit, Expr, Decl, AlignInBits, __functionAddress));
     }
 
     /**
@@ -2457,7 +2520,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Ctx);
         }
-        return invokePPPP(Ctx, Data, NumElements, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, invokePPPP(Ctx, Data, NumElements, __functionAddress));
     }
 
     /**
@@ -2486,7 +2550,9 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(TempNode);
         }
+        long __start = FunctionProfiler.start();
         invokePV(TempNode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ LLVMMetadataReplaceAllUsesWith ] ---
@@ -2503,7 +2569,9 @@ public class LLVMDebugInfo {
             check(TempTargetMetadata);
             check(Replacement);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(TempTargetMetadata, Replacement, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ LLVMDIBuilderCreateTempGlobalVariableFwdDecl ] ---
@@ -2523,7 +2591,8 @@ public class LLVMDebugInfo {
             check(Ty);
             check(Decl);
         }
-        return invokePPPPPPPPPP(Builder, Scope, Name, NameLen, Linkage, LnkLen, File, LineNo, Ty, LocalToUnit, Decl, AlignInBits, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, invokePPPPPPPPPP(Builder, Scope, Name, NameLen, Linkage, LnkLen, File, LineNo, Ty, LocalToUnit, Decl, AlignInBits, __functionAddress));
     }
 
     /**
@@ -2594,7 +2663,8 @@ public class LLVMDebugInfo {
             check(DebugLoc);
             check(Instr);
         }
-        return invokePPPPPPP(Builder, Storage, VarInfo, Expr, DebugLoc, Instr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, invokePPPPPPP(Builder, Storage, VarInfo, Expr, DebugLoc, Instr, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderInsertDeclareAtEnd ] ---
@@ -2621,7 +2691,8 @@ public class LLVMDebugInfo {
             check(DebugLoc);
             check(Block);
         }
-        return invokePPPPPPP(Builder, Storage, VarInfo, Expr, DebugLoc, Block, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, invokePPPPPPP(Builder, Storage, VarInfo, Expr, DebugLoc, Block, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderInsertDbgValueBefore ] ---
@@ -2647,7 +2718,8 @@ public class LLVMDebugInfo {
             check(DebugLoc);
             check(Instr);
         }
-        return invokePPPPPPP(Builder, Val, VarInfo, Expr, DebugLoc, Instr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, invokePPPPPPP(Builder, Val, VarInfo, Expr, DebugLoc, Instr, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderInsertDbgValueAtEnd ] ---
@@ -2674,7 +2746,8 @@ public class LLVMDebugInfo {
             check(DebugLoc);
             check(Block);
         }
-        return invokePPPPPPP(Builder, Val, VarInfo, Expr, DebugLoc, Block, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, invokePPPPPPP(Builder, Val, VarInfo, Expr, DebugLoc, Block, __functionAddress));
     }
 
     // --- [ LLVMDIBuilderCreateAutoVariable ] ---
@@ -2692,7 +2765,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Ty);
         }
-        return invokePPPPPPP(Builder, Scope, Name, NameLen, File, LineNo, Ty, AlwaysPreserve, Flags, AlignInBits, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, invokePPPPPPP(Builder, Scope, Name, NameLen, File, LineNo, Ty, AlwaysPreserve, Flags, AlignInBits, __functionAddress));
     }
 
     /**
@@ -2753,7 +2827,8 @@ public class LLVMDebugInfo {
             check(File);
             check(Ty);
         }
-        return invokePPPPPPP(Builder, Scope, Name, NameLen, ArgNo, File, LineNo, Ty, AlwaysPreserve, Flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, invokePPPPPPP(Builder, Scope, Name, NameLen, ArgNo, File, LineNo, Ty, AlwaysPreserve, Flags, __functionAddress));
     }
 
     /**
@@ -2808,7 +2883,8 @@ public class LLVMDebugInfo {
         if (CHECKS) {
             check(Func);
         }
-        return invokePP(Func, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, invokePP(Func, __functionAddress));
     }
 
     // --- [ LLVMSetSubprogram ] ---
@@ -2820,7 +2896,9 @@ public class LLVMDebugInfo {
             check(Func);
             check(SP);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Func, SP, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     // --- [ LLVMGetMetadataKind ] ---
@@ -2833,7 +2911,8 @@ public class LLVMDebugInfo {
             check(__functionAddress);
             check(Metadata);
         }
-        return invokePI(Metadata, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, invokePI(Metadata, __functionAddress));
     }
 
 }
\ No newline at end of file
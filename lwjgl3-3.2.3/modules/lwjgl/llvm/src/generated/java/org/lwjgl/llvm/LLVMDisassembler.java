@@ -56,6 +56,8 @@ public class LLVMDisassembler {
         LLVMDisassembler_Option_SetInstrComments  = 8,
         LLVMDisassembler_Option_PrintLatency      = 16;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMDisassembler.class, "LLVMCreateDisasm,LLVMCreateDisasmCPU,LLVMCreateDisasmCPUFeatures,LLVMSetDisasmOptions,LLVMDisasmDispose,LLVMDisasmInstruction");
+
     protected LLVMDisassembler() {
         throw new UnsupportedOperationException();
     }
@@ -81,7 +83,8 @@ public class LLVMDisassembler {
     /** Unsafe version of: {@link #LLVMCreateDisasm CreateDisasm} */
     public static long nLLVMCreateDisasm(long TripleName, long DisInfo, int TagType, long GetOpInfo, long SymbolLookUp) {
         long __functionAddress = Functions.CreateDisasm;
-        return invokePPPPP(TripleName, DisInfo, TagType, GetOpInfo, SymbolLookUp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPPPP(TripleName, DisInfo, TagType, GetOpInfo, SymbolLookUp, __functionAddress));
     }
 
     /**
@@ -123,7 +126,8 @@ public class LLVMDisassembler {
     /** Unsafe version of: {@link #LLVMCreateDisasmCPU CreateDisasmCPU} */
     public static long nLLVMCreateDisasmCPU(long Triple, long CPU, long DisInfo, int TagType, long GetOpInfo, long SymbolLookUp) {
         long __functionAddress = Functions.CreateDisasmCPU;
-        return invokePPPPPP(Triple, CPU, DisInfo, TagType, GetOpInfo, SymbolLookUp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePPPPPP(Triple, CPU, DisInfo, TagType, GetOpInfo, SymbolLookUp, __functionAddress));
     }
 
     /**
@@ -168,7 +172,8 @@ public class LLVMDisassembler {
     /** Unsafe version of: {@link #LLVMCreateDisasmCPUFeatures CreateDisasmCPUFeatures} */
     public static long nLLVMCreateDisasmCPUFeatures(long Triple, long CPU, long Features, long DisInfo, int TagType, long GetOpInfo, long SymbolLookUp) {
         long __functionAddress = Functions.CreateDisasmCPUFeatures;
-        return invokePPPPPPP(Triple, CPU, Features, DisInfo, TagType, GetOpInfo, SymbolLookUp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPPPPPP(Triple, CPU, Features, DisInfo, TagType, GetOpInfo, SymbolLookUp, __functionAddress));
     }
 
     /**
@@ -217,7 +222,8 @@ public class LLVMDisassembler {
         if (CHECKS) {
             check(DC);
         }
-        return invokePJI(DC, Options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePJI(DC, Options, __functionAddress));
     }
 
     // --- [ LLVMDisasmDispose ] ---
@@ -228,7 +234,9 @@ public class LLVMDisassembler {
         if (CHECKS) {
             check(DC);
         }
+        long __start = FunctionProfiler.start();
         invokePV(DC, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LLVMDisasmInstruction ] ---
@@ -239,7 +247,8 @@ public class LLVMDisassembler {
         if (CHECKS) {
             check(DC);
         }
-        return invokePPJJPPP(DC, Bytes, BytesSize, PC, OutString, OutStringSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPJJPPP(DC, Bytes, BytesSize, PC, OutString, OutStringSize, __functionAddress));
     }
 
     /**
@@ -20,6 +20,8 @@ public class LLVMError {
 
     public static final int LLVMErrorSuccess = 0;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMError.class, "LLVMGetErrorTypeId,LLVMConsumeError,LLVMGetErrorMessage,LLVMDisposeErrorMessage,LLVMGetStringErrorTypeId");
+
     protected LLVMError() {
         throw new UnsupportedOperationException();
     }
@@ -48,7 +50,8 @@ public class LLVMError {
         if (CHECKS) {
             check(Err);
         }
-        return invokePP(Err, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(Err, __functionAddress));
     }
 
     // --- [ LLVMConsumeError ] ---
@@ -64,7 +67,9 @@ public class LLVMError {
         if (CHECKS) {
             check(Err);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Err, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMGetErrorMessage ] ---
@@ -75,7 +80,8 @@ public class LLVMError {
         if (CHECKS) {
             check(Err);
         }
-        return invokePP(Err, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(Err, __functionAddress));
     }
 
     /**
@@ -96,7 +102,9 @@ public class LLVMError {
     /** Unsafe version of: {@link #LLVMDisposeErrorMessage DisposeErrorMessage} */
     public static void nLLVMDisposeErrorMessage(long ErrMsg) {
         long __functionAddress = Functions.DisposeErrorMessage;
+        long __start = FunctionProfiler.start();
         invokePV(ErrMsg, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Dispose of the given error message. */
@@ -110,7 +118,8 @@ public class LLVMError {
     @NativeType("LLVMErrorTypeId")
     public static long LLVMGetStringErrorTypeId() {
         long __functionAddress = Functions.GetStringErrorTypeId;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokeP(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ import static org.lwjgl.system.JNI.*;
 
 public class LLVMErrorHandling {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMErrorHandling.class, "LLVMInstallFatalErrorHandler,LLVMResetFatalErrorHandler,LLVMEnablePrettyStackTrace");
+
     protected LLVMErrorHandling() {
         throw new UnsupportedOperationException();
     }
@@ -35,7 +37,9 @@ public class LLVMErrorHandling {
     /** Unsafe version of: {@link #LLVMInstallFatalErrorHandler InstallFatalErrorHandler} */
     public static void nLLVMInstallFatalErrorHandler(long Handler) {
         long __functionAddress = Functions.InstallFatalErrorHandler;
+        long __start = FunctionProfiler.start();
         invokePV(Handler, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -52,7 +56,9 @@ public class LLVMErrorHandling {
     /** Reset the fatal error handler. This resets LLVM's fatal error handling behavior to the default. */
     public static void LLVMResetFatalErrorHandler() {
         long __functionAddress = Functions.ResetFatalErrorHandler;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMEnablePrettyStackTrace ] ---
@@ -63,7 +69,9 @@ public class LLVMErrorHandling {
      */
     public static void LLVMEnablePrettyStackTrace() {
         long __functionAddress = Functions.EnablePrettyStackTrace;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
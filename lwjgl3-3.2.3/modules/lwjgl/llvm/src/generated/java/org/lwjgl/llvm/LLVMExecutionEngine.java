@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMExecutionEngine {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMExecutionEngine.class, "LLVMLinkInMCJIT,LLVMLinkInInterpreter,LLVMCreateGenericValueOfInt,LLVMCreateGenericValueOfPointer,LLVMCreateGenericValueOfFloat,LLVMGenericValueIntWidth,LLVMGenericValueToInt,LLVMGenericValueToPointer,LLVMGenericValueToFloat,LLVMDisposeGenericValue,LLVMCreateExecutionEngineForModule,LLVMCreateInterpreterForModule,LLVMCreateJITCompilerForModule,LLVMInitializeMCJITCompilerOptions,LLVMCreateMCJITCompilerForModule,LLVMDisposeExecutionEngine,LLVMRunStaticConstructors,LLVMRunStaticDestructors,LLVMRunFunctionAsMain,LLVMRunFunction,LLVMFreeMachineCodeForFunction,LLVMAddModule,LLVMRemoveModule,LLVMFindFunction,LLVMRecompileAndRelinkFunction,LLVMGetExecutionEngineTargetData,LLVMGetExecutionEngineTargetMachine,LLVMAddGlobalMapping,LLVMGetPointerToGlobal,LLVMGetGlobalValueAddress,LLVMGetFunctionAddress,LLVMCreateSimpleMCJITMemoryManager,LLVMDisposeMCJITMemoryManager,LLVMCreateGDBRegistrationListener,LLVMCreateIntelJITEventListener,LLVMCreateOProfileJITEventListener,LLVMCreatePerfJITEventListener");
+
     protected LLVMExecutionEngine() {
         throw new UnsupportedOperationException();
     }
@@ -74,14 +76,18 @@ public class LLVMExecutionEngine {
 
     public static void LLVMLinkInMCJIT() {
         long __functionAddress = Functions.LinkInMCJIT;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ LLVMLinkInInterpreter ] ---
 
     public static void LLVMLinkInInterpreter() {
         long __functionAddress = Functions.LinkInInterpreter;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMCreateGenericValueOfInt ] ---
@@ -92,7 +98,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePJP(Ty, N, IsSigned ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePJP(Ty, N, IsSigned ? 1 : 0, __functionAddress));
     }
 
     // --- [ LLVMCreateGenericValueOfPointer ] ---
@@ -103,7 +110,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(P);
         }
-        return invokePP(P, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(P, __functionAddress));
     }
 
     // --- [ LLVMCreateGenericValueOfFloat ] ---
@@ -114,7 +122,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(Ty);
         }
-        return invokePP(Ty, N, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePP(Ty, N, __functionAddress));
     }
 
     // --- [ LLVMGenericValueIntWidth ] ---
@@ -125,7 +134,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(GenValRef);
         }
-        return invokePI(GenValRef, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePI(GenValRef, __functionAddress));
     }
 
     // --- [ LLVMGenericValueToInt ] ---
@@ -136,7 +146,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(GenVal);
         }
-        return invokePJ(GenVal, IsSigned ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePJ(GenVal, IsSigned ? 1 : 0, __functionAddress));
     }
 
     // --- [ LLVMGenericValueToPointer ] ---
@@ -147,7 +158,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(GenVal);
         }
-        return invokePP(GenVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePP(GenVal, __functionAddress));
     }
 
     // --- [ LLVMGenericValueToFloat ] ---
@@ -158,7 +170,8 @@ public class LLVMExecutionEngine {
             check(TyRef);
             check(GenVal);
         }
-        return invokePPD(TyRef, GenVal, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPD(TyRef, GenVal, __functionAddress));
     }
 
     // --- [ LLVMDisposeGenericValue ] ---
@@ -168,7 +181,9 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(GenVal);
         }
+        long __start = FunctionProfiler.start();
         invokePV(GenVal, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ LLVMCreateExecutionEngineForModule ] ---
@@ -178,7 +193,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(M);
         }
-        return invokePPPI(OutEE, M, OutError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPI(OutEE, M, OutError, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -197,7 +213,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(M);
         }
-        return invokePPPI(OutInterp, M, OutError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPI(OutInterp, M, OutError, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -216,7 +233,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(M);
         }
-        return invokePPPI(OutJIT, M, OptLevel, OutError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPPI(OutJIT, M, OptLevel, OutError, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -232,7 +250,9 @@ public class LLVMExecutionEngine {
 
     public static void nLLVMInitializeMCJITCompilerOptions(long Options, long SizeOfOptions) {
         long __functionAddress = Functions.InitializeMCJITCompilerOptions;
+        long __start = FunctionProfiler.start();
         invokePPV(Options, SizeOfOptions, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     public static void LLVMInitializeMCJITCompilerOptions(@NativeType("struct LLVMMCJITCompilerOptions *") LLVMMCJITCompilerOptions.Buffer Options) {
@@ -247,7 +267,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(M);
         }
-        return invokePPPPPI(OutJIT, M, Options, SizeOfOptions, OutError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPPPPI(OutJIT, M, Options, SizeOfOptions, OutError, __functionAddress));
     }
 
     /**
@@ -283,7 +304,9 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
+        long __start = FunctionProfiler.start();
         invokePV(EE, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ LLVMRunStaticConstructors ] ---
@@ -293,7 +316,9 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
+        long __start = FunctionProfiler.start();
         invokePV(EE, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ LLVMRunStaticDestructors ] ---
@@ -303,7 +328,9 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
+        long __start = FunctionProfiler.start();
         invokePV(EE, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ LLVMRunFunctionAsMain ] ---
@@ -314,7 +341,8 @@ public class LLVMExecutionEngine {
             check(EE);
             check(F);
         }
-        return invokePPPPI(EE, F, ArgC, ArgV, EnvP, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePPPPI(EE, F, ArgC, ArgV, EnvP, __functionAddress));
     }
 
     public static int LLVMRunFunctionAsMain(@NativeType("LLVMExecutionEngineRef") long EE, @NativeType("LLVMValueRef") long F, @NativeType("char const * const *") PointerBuffer ArgV, @NativeType("char const * const *") PointerBuffer EnvP) {
@@ -332,7 +360,8 @@ public class LLVMExecutionEngine {
             check(EE);
             check(F);
         }
-        return invokePPPP(EE, F, NumArgs, Args, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokePPPP(EE, F, NumArgs, Args, __functionAddress));
     }
 
     @NativeType("LLVMGenericValueRef")
@@ -348,7 +377,9 @@ public class LLVMExecutionEngine {
             check(EE);
             check(F);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(EE, F, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ LLVMAddModule ] ---
@@ -359,7 +390,9 @@ public class LLVMExecutionEngine {
             check(EE);
             check(M);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(EE, M, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ LLVMRemoveModule ] ---
@@ -370,7 +403,8 @@ public class LLVMExecutionEngine {
             check(EE);
             check(M);
         }
-        return invokePPPPI(EE, M, OutMod, OutError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokePPPPI(EE, M, OutMod, OutError, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -389,7 +423,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
-        return invokePPPI(EE, Name, OutFn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokePPPI(EE, Name, OutFn, __functionAddress));
     }
 
     @NativeType("LLVMBool")
@@ -426,7 +461,8 @@ public class LLVMExecutionEngine {
             check(EE);
             check(Fn);
         }
-        return invokePPP(EE, Fn, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokePPP(EE, Fn, __functionAddress));
     }
 
     // --- [ LLVMGetExecutionEngineTargetData ] ---
@@ -437,7 +473,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
-        return invokePP(EE, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePP(EE, __functionAddress));
     }
 
     // --- [ LLVMGetExecutionEngineTargetMachine ] ---
@@ -448,7 +485,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
-        return invokePP(EE, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokePP(EE, __functionAddress));
     }
 
     // --- [ LLVMAddGlobalMapping ] ---
@@ -460,7 +498,9 @@ public class LLVMExecutionEngine {
             check(Global);
             check(Addr);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(EE, Global, Addr, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ LLVMGetPointerToGlobal ] ---
@@ -472,7 +512,8 @@ public class LLVMExecutionEngine {
             check(EE);
             check(Global);
         }
-        return invokePPP(EE, Global, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, invokePPP(EE, Global, __functionAddress));
     }
 
     // --- [ LLVMGetGlobalValueAddress ] ---
@@ -482,7 +523,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
-        return invokePPJ(EE, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, invokePPJ(EE, Name, __functionAddress));
     }
 
     @NativeType("uint64_t")
@@ -512,7 +554,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(EE);
         }
-        return invokePPJ(EE, Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, invokePPJ(EE, Name, __functionAddress));
     }
 
     @NativeType("uint64_t")
@@ -543,7 +586,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(Opaque);
         }
-        return invokePPPPPP(Opaque, AllocateCodeSection, AllocateDataSection, FinalizeMemory, Destroy, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, invokePPPPPP(Opaque, AllocateCodeSection, AllocateDataSection, FinalizeMemory, Destroy, __functionAddress));
     }
 
     /**
@@ -567,7 +611,9 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(MM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(MM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ LLVMCreateGDBRegistrationListener ] ---
@@ -578,7 +624,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMCreateIntelJITEventListener ] ---
@@ -589,7 +636,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMCreateOProfileJITEventListener ] ---
@@ -600,7 +648,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMCreatePerfJITEventListener ] ---
@@ -611,7 +660,8 @@ public class LLVMExecutionEngine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, invokeP(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -16,6 +16,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMIRReader {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMIRReader.class, "LLVMParseIRInContext");
+
     protected LLVMIRReader() {
         throw new UnsupportedOperationException();
     }
@@ -40,7 +42,8 @@ public class LLVMIRReader {
             check(ContextRef);
             check(MemBuf);
         }
-        return invokePPPPI(ContextRef, MemBuf, OutM, OutMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPPPI(ContextRef, MemBuf, OutM, OutMessage, __functionAddress));
     }
 
     /**
@@ -13,6 +13,8 @@ import static org.lwjgl.system.JNI.*;
 
 public class LLVMInitialization {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMInitialization.class, "LLVMInitializeCore,LLVMInitializeTransformUtils,LLVMInitializeScalarOpts,LLVMInitializeObjCARCOpts,LLVMInitializeVectorization,LLVMInitializeInstCombine,LLVMInitializeAggressiveInstCombiner,LLVMInitializeIPO,LLVMInitializeInstrumentation,LLVMInitializeAnalysis,LLVMInitializeIPA,LLVMInitializeCodeGen,LLVMInitializeTarget");
+
     protected LLVMInitialization() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ LLVMInitializeTransformUtils ] ---
@@ -57,7 +61,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMInitializeScalarOpts ] ---
@@ -67,7 +73,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ LLVMInitializeObjCARCOpts ] ---
@@ -77,7 +85,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ LLVMInitializeVectorization ] ---
@@ -87,7 +97,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LLVMInitializeInstCombine ] ---
@@ -98,7 +110,9 @@ public class LLVMInitialization {
             check(__functionAddress);
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ LLVMInitializeAggressiveInstCombiner ] ---
@@ -109,7 +123,9 @@ public class LLVMInitialization {
             check(__functionAddress);
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ LLVMInitializeIPO ] ---
@@ -119,7 +135,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ LLVMInitializeInstrumentation ] ---
@@ -129,7 +147,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ LLVMInitializeAnalysis ] ---
@@ -139,7 +159,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ LLVMInitializeIPA ] ---
@@ -149,7 +171,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ LLVMInitializeCodeGen ] ---
@@ -159,7 +183,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ LLVMInitializeTarget ] ---
@@ -169,7 +195,9 @@ public class LLVMInitialization {
         if (CHECKS) {
             check(R);
         }
+        long __start = FunctionProfiler.start();
         invokePV(R, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
 }
\ No newline at end of file
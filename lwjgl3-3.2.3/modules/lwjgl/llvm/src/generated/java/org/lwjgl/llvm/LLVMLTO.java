@@ -123,6 +123,8 @@ public class LLVMLTO {
         LTODS_REMARK  = 3,
         LTODS_NOTE    = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMLTO.class, "lto_get_version,lto_get_error_message,lto_module_is_object_file,lto_module_is_object_file_for_target,lto_module_has_objc_category,lto_module_is_object_file_in_memory,lto_module_is_object_file_in_memory_for_target,lto_module_create,lto_module_create_from_memory,lto_module_create_from_memory_with_path,lto_module_create_in_local_context,lto_module_create_in_codegen_context,lto_module_create_from_fd,lto_module_create_from_fd_at_offset,lto_module_dispose,lto_module_get_target_triple,lto_module_set_target_triple,lto_module_get_num_symbols,lto_module_get_symbol_name,lto_module_get_symbol_attribute,lto_module_get_linkeropts,lto_codegen_set_diagnostic_handler,lto_codegen_create,lto_codegen_create_in_local_context,lto_codegen_dispose,lto_codegen_add_module,lto_codegen_set_module,lto_codegen_set_debug_model,lto_codegen_set_pic_model,lto_codegen_set_cpu,lto_codegen_set_assembler_path,lto_codegen_set_assembler_args,lto_codegen_add_must_preserve_symbol,lto_codegen_write_merged_modules,lto_codegen_compile,lto_codegen_compile_to_file,lto_codegen_optimize,lto_codegen_compile_optimized,lto_api_version,lto_codegen_debug_options,lto_initialize_disassembler,lto_codegen_set_should_internalize,lto_codegen_set_should_embed_uselists,thinlto_create_codegen,thinlto_codegen_dispose,thinlto_codegen_add_module,thinlto_codegen_process,thinlto_module_get_num_objects,thinlto_module_get_object,thinlto_module_get_num_object_files,thinlto_module_get_object_file,thinlto_codegen_set_pic_model,thinlto_codegen_set_savetemps_dir,thinlto_set_generated_objects_dir,thinlto_codegen_set_cpu,thinlto_codegen_disable_codegen,thinlto_codegen_set_codegen_only,thinlto_debug_options,lto_module_is_thinlto,thinlto_codegen_add_must_preserve_symbol,thinlto_codegen_add_cross_referenced_symbol,thinlto_codegen_set_cache_dir,thinlto_codegen_set_cache_pruning_interval,thinlto_codegen_set_final_cache_size_relative_to_available_space,thinlto_codegen_set_cache_entry_expiration,thinlto_codegen_set_cache_size_bytes,thinlto_codegen_set_cache_size_megabytes,thinlto_codegen_set_cache_size_files");
+
     static { LibLLVM.initialize(); }
 
     protected LLVMLTO() {
@@ -219,7 +221,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_get_version get_version} */
     public static long nlto_get_version() {
         long __functionAddress = Functions.get_version;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     /** Returns a printable string. */
@@ -234,7 +237,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_get_error_message get_error_message} */
     public static long nlto_get_error_message() {
         long __functionAddress = Functions.get_error_message;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokeP(__functionAddress));
     }
 
     /** Returns the last error string or {@code NULL} if last operation was successful. */
@@ -250,7 +254,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_is_object_file module_is_object_file} */
     public static boolean nlto_module_is_object_file(long path) {
         long __functionAddress = Functions.module_is_object_file;
-        return invokePZ(path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePZ(path, __functionAddress));
     }
 
     /** Checks if a file is a loadable object file. */
@@ -280,7 +285,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_is_object_file_for_target module_is_object_file_for_target} */
     public static boolean nlto_module_is_object_file_for_target(long path, long target_triple_prefix) {
         long __functionAddress = Functions.module_is_object_file_for_target;
-        return invokePPZ(path, target_triple_prefix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPZ(path, target_triple_prefix, __functionAddress));
     }
 
     /** Checks if a file is a loadable object compiled for requested target. */
@@ -313,7 +319,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_has_objc_category module_has_objc_category} */
     public static boolean nlto_module_has_objc_category(long mem, long length) {
         long __functionAddress = Functions.module_has_objc_category;
-        return invokePPZ(mem, length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPZ(mem, length, __functionAddress));
     }
 
     /** Return true if {@code Buffer} contains a bitcode file with ObjC code (category or class) in it. */
@@ -327,7 +334,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_is_object_file_in_memory module_is_object_file_in_memory} */
     public static boolean nlto_module_is_object_file_in_memory(long mem, long length) {
         long __functionAddress = Functions.module_is_object_file_in_memory;
-        return invokePPZ(mem, length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPZ(mem, length, __functionAddress));
     }
 
     /** Checks if a buffer is a loadable object file. */
@@ -341,7 +349,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_is_object_file_in_memory_for_target module_is_object_file_in_memory_for_target} */
     public static boolean nlto_module_is_object_file_in_memory_for_target(long mem, long length, long target_triple_prefix) {
         long __functionAddress = Functions.module_is_object_file_in_memory_for_target;
-        return invokePPPZ(mem, length, target_triple_prefix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePPPZ(mem, length, target_triple_prefix, __functionAddress));
     }
 
     /** Checks if a buffer is a loadable object compiled for requested target. */
@@ -371,7 +380,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_create module_create} */
     public static long nlto_module_create(long path) {
         long __functionAddress = Functions.module_create;
-        return invokePP(path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePP(path, __functionAddress));
     }
 
     /** Loads an object file from disk. Returns {@code NULL} on error (check {@link #lto_get_error_message get_error_message} for details). */
@@ -401,7 +411,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_create_from_memory module_create_from_memory} */
     public static long nlto_module_create_from_memory(long mem, long length) {
         long __functionAddress = Functions.module_create_from_memory;
-        return invokePPP(mem, length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPP(mem, length, __functionAddress));
     }
 
     /** Loads an object file from memory. Returns {@code NULL} on error (check {@link #lto_get_error_message get_error_message} for details). */
@@ -415,7 +426,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_create_from_memory_with_path module_create_from_memory_with_path} */
     public static long nlto_module_create_from_memory_with_path(long mem, long length, long path) {
         long __functionAddress = Functions.module_create_from_memory_with_path;
-        return invokePPPP(mem, length, path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPPP(mem, length, path, __functionAddress));
     }
 
     /** Loads an object file from memory with an extra path argument. Returns {@code NULL} on error (check {@link #lto_get_error_message get_error_message} for details). */
@@ -445,7 +457,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_create_in_local_context module_create_in_local_context} */
     public static long nlto_module_create_in_local_context(long mem, long length, long path) {
         long __functionAddress = Functions.module_create_in_local_context;
-        return invokePPPP(mem, length, path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPP(mem, length, path, __functionAddress));
     }
 
     /**
@@ -492,7 +505,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePPPPP(mem, length, path, cg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPPP(mem, length, path, cg, __functionAddress));
     }
 
     /**
@@ -534,7 +548,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_create_from_fd module_create_from_fd} */
     public static long nlto_module_create_from_fd(int fd, long path, long file_size) {
         long __functionAddress = Functions.module_create_from_fd;
-        return invokePPP(fd, path, file_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPP(fd, path, file_size, __functionAddress));
     }
 
     /** Loads an object file from disk. The seek point of {@code fd} is not preserved. Returns {@code NULL} on error (check {@link #lto_get_error_message get_error_message} for details). */
@@ -564,7 +579,8 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #lto_module_create_from_fd_at_offset module_create_from_fd_at_offset} */
     public static long nlto_module_create_from_fd_at_offset(int fd, long path, long file_size, long map_size, long offset) {
         long __functionAddress = Functions.module_create_from_fd_at_offset;
-        return invokePPPJP(fd, path, file_size, map_size, offset, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPPJP(fd, path, file_size, map_size, offset, __functionAddress));
     }
 
     /** Loads an object file from disk. The seek point of {@code fd} is not preserved. Returns {@code NULL} on error (check {@link #lto_get_error_message get_error_message} for details). */
@@ -597,7 +613,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
+        long __start = FunctionProfiler.start();
         invokePV(mod, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ lto_module_get_target_triple ] ---
@@ -608,7 +626,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
-        return invokePP(mod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePP(mod, __functionAddress));
     }
 
     /** Returns triple string which the object module was compiled under. */
@@ -627,7 +646,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(mod, triple, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Sets triple string with which the object will be codegened. */
@@ -659,7 +680,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
-        return invokePI(mod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePI(mod, __functionAddress));
     }
 
     // --- [ lto_module_get_symbol_name ] ---
@@ -670,7 +692,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
-        return invokePP(mod, index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePP(mod, index, __functionAddress));
     }
 
     /** Returns the name of the ith symbol in the object module. */
@@ -690,7 +713,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
-        return invokePI(mod, index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokePI(mod, index, __functionAddress));
     }
 
     // --- [ lto_module_get_linkeropts ] ---
@@ -701,7 +725,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
-        return invokePP(mod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePP(mod, __functionAddress));
     }
 
     /**
@@ -725,7 +750,9 @@ public class LLVMLTO {
             check(cg);
             check(ctxt);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(cg, handler, ctxt, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -746,7 +773,8 @@ public class LLVMLTO {
     @NativeType("lto_code_gen_t")
     public static long lto_codegen_create() {
         long __functionAddress = Functions.codegen_create;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokeP(__functionAddress));
     }
 
     // --- [ lto_codegen_create_in_local_context ] ---
@@ -760,7 +788,8 @@ public class LLVMLTO {
     @NativeType("lto_code_gen_t")
     public static long lto_codegen_create_in_local_context() {
         long __functionAddress = Functions.codegen_create_in_local_context;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokeP(__functionAddress));
     }
 
     // --- [ lto_codegen_dispose ] ---
@@ -771,7 +800,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ lto_codegen_add_module ] ---
@@ -788,7 +819,8 @@ public class LLVMLTO {
             check(cg);
             check(mod);
         }
-        return invokePPZ(cg, mod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePPZ(cg, mod, __functionAddress));
     }
 
     // --- [ lto_codegen_set_module ] ---
@@ -804,7 +836,9 @@ public class LLVMLTO {
             check(cg);
             check(mod);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, mod, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ lto_codegen_set_debug_model ] ---
@@ -816,7 +850,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePZ(cg, model, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePZ(cg, model, __functionAddress));
     }
 
     // --- [ lto_codegen_set_pic_model ] ---
@@ -828,7 +863,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePZ(cg, model, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, invokePZ(cg, model, __functionAddress));
     }
 
     // --- [ lto_codegen_set_cpu ] ---
@@ -839,7 +875,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, cpu, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** Sets the cpu to generate code for. */
@@ -870,7 +908,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, path, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Sets the location of the assembler tool to run. If not set, libLTO will use gcc to invoke the assembler. */
@@ -901,7 +941,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, args, nargs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Sets extra arguments that libLTO should pass to the assembler. */
@@ -917,7 +959,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, symbol, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -954,7 +998,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePPZ(cg, path, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePPZ(cg, path, __functionAddress));
     }
 
     /**
@@ -993,7 +1038,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePPP(cg, length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, invokePPP(cg, length, __functionAddress));
     }
 
     /**
@@ -1024,7 +1070,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePPZ(cg, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePPZ(cg, name, __functionAddress));
     }
 
     /**
@@ -1050,7 +1097,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePZ(cg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, invokePZ(cg, __functionAddress));
     }
 
     // --- [ lto_codegen_compile_optimized ] ---
@@ -1061,7 +1109,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePPP(cg, length, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, invokePPP(cg, length, __functionAddress));
     }
 
     /**
@@ -1090,7 +1139,8 @@ public class LLVMLTO {
     @NativeType("unsigned int")
     public static int lto_api_version() {
         long __functionAddress = Functions.api_version;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, invokeI(__functionAddress));
     }
 
     // --- [ lto_codegen_debug_options ] ---
@@ -1101,7 +1151,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Sets options to help debug codegen bugs. */
@@ -1129,7 +1181,9 @@ public class LLVMLTO {
     /** Initializes LLVM disassemblers. */
     public static void lto_initialize_disassembler() {
         long __functionAddress = Functions.initialize_disassembler;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ lto_codegen_set_should_internalize ] ---
@@ -1140,7 +1194,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, ShouldInternalize, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ lto_codegen_set_should_embed_uselists ] ---
@@ -1155,7 +1211,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, ShouldEmbedUselists, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ thinlto_create_codegen ] ---
@@ -1169,7 +1227,8 @@ public class LLVMLTO {
     @NativeType("thinlto_code_gen_t")
     public static long thinlto_create_codegen() {
         long __functionAddress = Functions.thinlto_create_codegen;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, invokeP(__functionAddress));
     }
 
     // --- [ thinlto_codegen_dispose ] ---
@@ -1180,7 +1239,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ thinlto_codegen_add_module ] ---
@@ -1191,7 +1252,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(cg, identifier, data, length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -1232,7 +1295,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ thinlto_module_get_num_objects ] ---
@@ -1249,7 +1314,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePI(cg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, invokePI(cg, __functionAddress));
     }
 
     // --- [ thinlto_module_get_object ] ---
@@ -1263,7 +1329,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         nthinlto_module_get_object(cg, index, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -1290,7 +1358,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePI(cg, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, invokePI(cg, __functionAddress));
     }
 
     // --- [ thinlto_module_get_object_file ] ---
@@ -1301,7 +1370,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePP(cg, index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, invokePP(cg, index, __functionAddress));
     }
 
     /**
@@ -1325,7 +1395,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
-        return invokePZ(cg, model, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, invokePZ(cg, model, __functionAddress));
     }
 
     // --- [ thinlto_codegen_set_savetemps_dir ] ---
@@ -1336,7 +1407,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, save_temps_dir, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -1373,7 +1446,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, save_temps_dir, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -1410,7 +1485,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, cpu, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /** Sets the cpu to generate code for. */
@@ -1441,7 +1518,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, disable, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ thinlto_codegen_set_codegen_only ] ---
@@ -1452,7 +1531,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, codegen_only, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ thinlto_debug_options ] ---
@@ -1460,7 +1541,9 @@ public class LLVMLTO {
     /** Unsafe version of: {@link #thinlto_debug_options} */
     public static void nthinlto_debug_options(long options, int number) {
         long __functionAddress = Functions.thinlto_debug_options;
+        long __start = FunctionProfiler.start();
         invokePV(options, number, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /** Parse {@code -mllvm} style debug options. */
@@ -1477,7 +1560,8 @@ public class LLVMLTO {
         if (CHECKS) {
             check(mod);
         }
-        return invokePZ(mod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, invokePZ(mod, __functionAddress));
     }
 
     // --- [ thinlto_codegen_add_must_preserve_symbol ] ---
@@ -1488,7 +1572,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, name, length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -1522,7 +1608,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, name, length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     /**
@@ -1556,7 +1644,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(cg, cache_dir, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /** Sets the path to a directory to use as a cache storage for incremental build. Setting this activates caching. */
@@ -1590,7 +1680,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, interval, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     // --- [ thinlto_codegen_set_final_cache_size_relative_to_available_space ] ---
@@ -1607,7 +1699,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, percentage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ thinlto_codegen_set_cache_entry_expiration ] ---
@@ -1618,7 +1712,9 @@ public class LLVMLTO {
         if (CHECKS) {
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, expiration, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ thinlto_codegen_set_cache_size_bytes ] ---
@@ -1633,7 +1729,9 @@ public class LLVMLTO {
             check(__functionAddress);
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, max_size_bytes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ thinlto_codegen_set_cache_size_megabytes ] ---
@@ -1645,7 +1743,9 @@ public class LLVMLTO {
             check(__functionAddress);
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, max_size_megabytes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     // --- [ thinlto_codegen_set_cache_size_files ] ---
@@ -1657,7 +1757,9 @@ public class LLVMLTO {
             check(__functionAddress);
             check(cg);
         }
+        long __start = FunctionProfiler.start();
         invokePV(cg, max_size_files, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
 }
\ No newline at end of file
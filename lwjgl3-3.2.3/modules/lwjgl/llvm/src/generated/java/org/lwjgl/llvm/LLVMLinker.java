@@ -29,6 +29,8 @@ public class LLVMLinker {
         LLVMLinkerDestroySource          = 0,
         LLVMLinkerPreserveSource_Removed = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMLinker.class, "LLVMLinkModules2");
+
     protected LLVMLinker() {
         throw new UnsupportedOperationException();
     }
@@ -59,7 +61,8 @@ public class LLVMLinker {
             check(Dest);
             check(Src);
         }
-        return invokePPI(Dest, Src, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePPI(Dest, Src, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -236,6 +236,24 @@ public class LLVMMCJITCompilerOptions extends Struct implements NativeResource {
         return wrap(LLVMMCJITCompilerOptions.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LLVMMCJITCompilerOptions} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LLVMMCJITCompilerOptions malloc(MemoryArena arena) {
+        return wrap(LLVMMCJITCompilerOptions.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LLVMMCJITCompilerOptions} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LLVMMCJITCompilerOptions calloc(MemoryArena arena) {
+        return wrap(LLVMMCJITCompilerOptions.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LLVMMCJITCompilerOptions.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class LLVMMCJITCompilerOptions extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LLVMMCJITCompilerOptions.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LLVMMCJITCompilerOptions.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LLVMMCJITCompilerOptions.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LLVMMCJITCompilerOptions.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #OptLevel}. */
@@ -384,6 +422,24 @@ public class LLVMMCJITCompilerOptions extends Struct implements NativeResource {
         /** Sets the specified value to the {@code MCJMM} field. */
         public LLVMMCJITCompilerOptions.Buffer MCJMM(@NativeType("LLVMMCJITMemoryManagerRef") long value) { LLVMMCJITCompilerOptions.nMCJMM(address(), value); return this; }
 
+        /** Copies the {@code OptLevel} field of the structs between the current position and limit to the specified array. */
+        public LLVMMCJITCompilerOptions.Buffer getOptLevel(int[] dst) { gather(LLVMMCJITCompilerOptions.OPTLEVEL, dst); return this; }
+        /** Copies the {@code OptLevel} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMMCJITCompilerOptions.Buffer getOptLevel(IntBuffer dst) { gather(LLVMMCJITCompilerOptions.OPTLEVEL, dst); return this; }
+        /** Copies the {@code CodeModel} field of the structs between the current position and limit to the specified array. */
+        public LLVMMCJITCompilerOptions.Buffer getCodeModel(int[] dst) { gather(LLVMMCJITCompilerOptions.CODEMODEL, dst); return this; }
+        /** Copies the {@code CodeModel} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMMCJITCompilerOptions.Buffer getCodeModel(IntBuffer dst) { gather(LLVMMCJITCompilerOptions.CODEMODEL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code OptLevel} field of the structs between the current position and limit. */
+        public LLVMMCJITCompilerOptions.Buffer putOptLevel(int[] src) { scatter(LLVMMCJITCompilerOptions.OPTLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code OptLevel} field of the structs between the current position and limit. */
+        public LLVMMCJITCompilerOptions.Buffer putOptLevel(IntBuffer src) { scatter(LLVMMCJITCompilerOptions.OPTLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code CodeModel} field of the structs between the current position and limit. */
+        public LLVMMCJITCompilerOptions.Buffer putCodeModel(int[] src) { scatter(LLVMMCJITCompilerOptions.CODEMODEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CodeModel} field of the structs between the current position and limit. */
+        public LLVMMCJITCompilerOptions.Buffer putCodeModel(IntBuffer src) { scatter(LLVMMCJITCompilerOptions.CODEMODEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMORC {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMORC.class, "LLVMOrcCreateInstance,LLVMOrcGetErrorMsg,LLVMOrcGetMangledSymbol,LLVMOrcDisposeMangledSymbol,LLVMOrcCreateLazyCompileCallback,LLVMOrcCreateIndirectStub,LLVMOrcSetIndirectStubPointer,LLVMOrcAddEagerlyCompiledIR,LLVMOrcAddLazilyCompiledIR,LLVMOrcAddObjectFile,LLVMOrcRemoveModule,LLVMOrcGetSymbolAddress,LLVMOrcGetSymbolAddressIn,LLVMOrcDisposeInstance,LLVMOrcRegisterJITEventListener,LLVMOrcUnregisterJITEventListener");
+
     protected LLVMORC() {
         throw new UnsupportedOperationException();
     }
@@ -66,7 +68,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(TM);
         }
-        return invokePP(TM, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(TM, __functionAddress));
     }
 
     // --- [ LLVMOrcGetErrorMsg ] ---
@@ -77,7 +80,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
-        return invokePP(JITStack, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(JITStack, __functionAddress));
     }
 
     /**
@@ -100,7 +104,9 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(JITStack, MangledSymbol, Symbol, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Mangle the given symbol. Memory will be allocated for {@code MangledSymbol} to hold the result. */
@@ -132,7 +138,9 @@ public class LLVMORC {
     /** Unsafe version of: {@link #LLVMOrcDisposeMangledSymbol OrcDisposeMangledSymbol} */
     public static void nLLVMOrcDisposeMangledSymbol(long MangledSymbol) {
         long __functionAddress = Functions.OrcDisposeMangledSymbol;
+        long __start = FunctionProfiler.start();
         invokePV(MangledSymbol, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Dispose of a mangled symbol. */
@@ -149,7 +157,8 @@ public class LLVMORC {
             check(JITStack);
             check(CallbackCtx);
         }
-        return invokePPPPP(JITStack, RetAddr, Callback, CallbackCtx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPPP(JITStack, RetAddr, Callback, CallbackCtx, __functionAddress));
     }
 
     /** Create a lazy compile callback. */
@@ -169,7 +178,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
-        return invokePPJP(JITStack, StubName, InitAddr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPJP(JITStack, StubName, InitAddr, __functionAddress));
     }
 
     /** Create a named indirect call stub. */
@@ -202,7 +212,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
-        return invokePPJP(JITStack, StubName, NewAddr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePPJP(JITStack, StubName, NewAddr, __functionAddress));
     }
 
     /** Set the pointer for the given indirect stub. */
@@ -237,7 +248,8 @@ public class LLVMORC {
             check(Mod);
             check(SymbolResolverCtx);
         }
-        return invokePPPPPP(JITStack, RetHandle, Mod, SymbolResolver, SymbolResolverCtx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePPPPPP(JITStack, RetHandle, Mod, SymbolResolver, SymbolResolverCtx, __functionAddress));
     }
 
     /** Add module to be eagerly compiled. */
@@ -259,7 +271,8 @@ public class LLVMORC {
             check(Mod);
             check(SymbolResolverCtx);
         }
-        return invokePPPPPP(JITStack, RetHandle, Mod, SymbolResolver, SymbolResolverCtx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPPPPP(JITStack, RetHandle, Mod, SymbolResolver, SymbolResolverCtx, __functionAddress));
     }
 
     /** Add module to be lazily compiled one function at a time. */
@@ -282,7 +295,8 @@ public class LLVMORC {
             check(Obj);
             check(SymbolResolverCtx);
         }
-        return invokePPPPPP(JITStack, RetHandle, Obj, SymbolResolver, SymbolResolverCtx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPPPPP(JITStack, RetHandle, Obj, SymbolResolver, SymbolResolverCtx, __functionAddress));
     }
 
     /**
@@ -312,7 +326,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
-        return invokePJP(JITStack, H, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePJP(JITStack, H, __functionAddress));
     }
 
     // --- [ LLVMOrcGetSymbolAddress ] ---
@@ -323,7 +338,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
-        return invokePPPP(JITStack, RetAddr, SymbolName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPP(JITStack, RetAddr, SymbolName, __functionAddress));
     }
 
     /** Get symbol address from JIT instance. */
@@ -361,7 +377,8 @@ public class LLVMORC {
             check(__functionAddress);
             check(JITStack);
         }
-        return invokePPJPP(JITStack, RetAddr, H, SymbolName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPJPP(JITStack, RetAddr, H, SymbolName, __functionAddress));
     }
 
     /** Get symbol address from JIT instance, searching only the specified handle. */
@@ -399,7 +416,8 @@ public class LLVMORC {
         if (CHECKS) {
             check(JITStack);
         }
-        return invokePP(JITStack, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(JITStack, __functionAddress));
     }
 
     // --- [ LLVMOrcRegisterJITEventListener ] ---
@@ -415,7 +433,9 @@ public class LLVMORC {
             check(__functionAddress);
             check(JITStack);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(JITStack, L, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ LLVMOrcUnregisterJITEventListener ] ---
@@ -431,7 +451,9 @@ public class LLVMORC {
             check(__functionAddress);
             check(JITStack);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(JITStack, L, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
 }
\ No newline at end of file
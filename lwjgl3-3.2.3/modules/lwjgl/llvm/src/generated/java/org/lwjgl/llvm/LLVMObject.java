@@ -16,6 +16,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMObject {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMObject.class, "LLVMCreateObjectFile,LLVMDisposeObjectFile,LLVMGetSections,LLVMDisposeSectionIterator,LLVMIsSectionIteratorAtEnd,LLVMMoveToNextSection,LLVMMoveToContainingSection,LLVMGetSymbols,LLVMDisposeSymbolIterator,LLVMIsSymbolIteratorAtEnd,LLVMMoveToNextSymbol,LLVMGetSectionName,LLVMGetSectionSize,LLVMGetSectionContents,LLVMGetSectionAddress,LLVMGetSectionContainsSymbol,LLVMGetRelocations,LLVMDisposeRelocationIterator,LLVMIsRelocationIteratorAtEnd,LLVMMoveToNextRelocation,LLVMGetSymbolName,LLVMGetSymbolAddress,LLVMGetSymbolSize,LLVMGetRelocationOffset,LLVMGetRelocationSymbol,LLVMGetRelocationType,LLVMGetRelocationTypeName,LLVMGetRelocationValueString");
+
     protected LLVMObject() {
         throw new UnsupportedOperationException();
     }
@@ -67,7 +69,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(MemBuf);
         }
-        return invokePP(MemBuf, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(MemBuf, __functionAddress));
     }
 
     // --- [ LLVMDisposeObjectFile ] ---
@@ -77,7 +80,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(ObjectFile);
         }
+        long __start = FunctionProfiler.start();
         invokePV(ObjectFile, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMGetSections ] ---
@@ -89,7 +94,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(ObjectFile);
         }
-        return invokePP(ObjectFile, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(ObjectFile, __functionAddress));
     }
 
     // --- [ LLVMDisposeSectionIterator ] ---
@@ -99,7 +105,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
+        long __start = FunctionProfiler.start();
         invokePV(SI, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ LLVMIsSectionIteratorAtEnd ] ---
@@ -111,7 +119,8 @@ public class LLVMObject {
             check(ObjectFile);
             check(SI);
         }
-        return invokePPI(ObjectFile, SI, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPI(ObjectFile, SI, __functionAddress)) != 0;
     }
 
     // --- [ LLVMMoveToNextSection ] ---
@@ -121,7 +130,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
+        long __start = FunctionProfiler.start();
         invokePV(SI, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ LLVMMoveToContainingSection ] ---
@@ -132,7 +143,9 @@ public class LLVMObject {
             check(Sect);
             check(Sym);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(Sect, Sym, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ LLVMGetSymbols ] ---
@@ -144,7 +157,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(ObjectFile);
         }
-        return invokePP(ObjectFile, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePP(ObjectFile, __functionAddress));
     }
 
     // --- [ LLVMDisposeSymbolIterator ] ---
@@ -154,7 +168,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
+        long __start = FunctionProfiler.start();
         invokePV(SI, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ LLVMIsSymbolIteratorAtEnd ] ---
@@ -166,7 +182,8 @@ public class LLVMObject {
             check(ObjectFile);
             check(SI);
         }
-        return invokePPI(ObjectFile, SI, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPI(ObjectFile, SI, __functionAddress)) != 0;
     }
 
     // --- [ LLVMMoveToNextSymbol ] ---
@@ -176,7 +193,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
+        long __start = FunctionProfiler.start();
         invokePV(SI, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ LLVMGetSectionName ] ---
@@ -187,7 +206,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePP(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePP(SI, __functionAddress));
     }
 
     /** SectionRef accessors */
@@ -206,7 +226,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePJ(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePJ(SI, __functionAddress));
     }
 
     // --- [ LLVMGetSectionContents ] ---
@@ -216,7 +237,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePP(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(SI, __functionAddress));
     }
 
     @Nullable
@@ -234,7 +256,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePJ(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePJ(SI, __functionAddress));
     }
 
     // --- [ LLVMGetSectionContainsSymbol ] ---
@@ -246,7 +269,8 @@ public class LLVMObject {
             check(SI);
             check(Sym);
         }
-        return invokePPI(SI, Sym, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePPI(SI, Sym, __functionAddress)) != 0;
     }
 
     // --- [ LLVMGetRelocations ] ---
@@ -258,7 +282,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(Section);
         }
-        return invokePP(Section, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePP(Section, __functionAddress));
     }
 
     // --- [ LLVMDisposeRelocationIterator ] ---
@@ -268,7 +293,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
+        long __start = FunctionProfiler.start();
         invokePV(RI, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ LLVMIsRelocationIteratorAtEnd ] ---
@@ -280,7 +307,8 @@ public class LLVMObject {
             check(Section);
             check(RI);
         }
-        return invokePPI(Section, RI, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePPI(Section, RI, __functionAddress)) != 0;
     }
 
     // --- [ LLVMMoveToNextRelocation ] ---
@@ -290,7 +318,9 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
+        long __start = FunctionProfiler.start();
         invokePV(RI, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ LLVMGetSymbolName ] ---
@@ -301,7 +331,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePP(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePP(SI, __functionAddress));
     }
 
     /** SymbolRef accessors */
@@ -320,7 +351,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePJ(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokePJ(SI, __functionAddress));
     }
 
     // --- [ LLVMGetSymbolSize ] ---
@@ -331,7 +363,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(SI);
         }
-        return invokePJ(SI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokePJ(SI, __functionAddress));
     }
 
     // --- [ LLVMGetRelocationOffset ] ---
@@ -343,7 +376,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
-        return invokePJ(RI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokePJ(RI, __functionAddress));
     }
 
     // --- [ LLVMGetRelocationSymbol ] ---
@@ -354,7 +388,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
-        return invokePP(RI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokePP(RI, __functionAddress));
     }
 
     // --- [ LLVMGetRelocationType ] ---
@@ -365,7 +400,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
-        return invokePJ(RI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, invokePJ(RI, __functionAddress));
     }
 
     // --- [ LLVMGetRelocationTypeName ] ---
@@ -376,7 +412,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
-        return invokePP(RI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokePP(RI, __functionAddress));
     }
 
     /** Caller takes ownership of returned string. */
@@ -395,7 +432,8 @@ public class LLVMObject {
         if (CHECKS) {
             check(RI);
         }
-        return invokePP(RI, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePP(RI, __functionAddress));
     }
 
     /** Caller takes ownership of returned string. */
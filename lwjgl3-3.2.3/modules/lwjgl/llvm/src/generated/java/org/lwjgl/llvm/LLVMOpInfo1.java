@@ -228,6 +228,24 @@ public class LLVMOpInfo1 extends Struct implements NativeResource {
         return wrap(LLVMOpInfo1.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LLVMOpInfo1} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LLVMOpInfo1 malloc(MemoryArena arena) {
+        return wrap(LLVMOpInfo1.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LLVMOpInfo1} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LLVMOpInfo1 calloc(MemoryArena arena) {
+        return wrap(LLVMOpInfo1.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LLVMOpInfo1.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class LLVMOpInfo1 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LLVMOpInfo1.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LLVMOpInfo1.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LLVMOpInfo1.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LLVMOpInfo1.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #AddSymbol}. */
@@ -350,6 +388,24 @@ public class LLVMOpInfo1 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code VariantKind} field. */
         public LLVMOpInfo1.Buffer VariantKind(@NativeType("uint64_t") long value) { LLVMOpInfo1.nVariantKind(address(), value); return this; }
 
+        /** Copies the {@code Value} field of the structs between the current position and limit to the specified array. */
+        public LLVMOpInfo1.Buffer getValue(long[] dst) { gather(LLVMOpInfo1.VALUE, dst); return this; }
+        /** Copies the {@code Value} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOpInfo1.Buffer getValue(LongBuffer dst) { gather(LLVMOpInfo1.VALUE, dst); return this; }
+        /** Copies the {@code VariantKind} field of the structs between the current position and limit to the specified array. */
+        public LLVMOpInfo1.Buffer getVariantKind(long[] dst) { gather(LLVMOpInfo1.VARIANTKIND, dst); return this; }
+        /** Copies the {@code VariantKind} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOpInfo1.Buffer getVariantKind(LongBuffer dst) { gather(LLVMOpInfo1.VARIANTKIND, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code Value} field of the structs between the current position and limit. */
+        public LLVMOpInfo1.Buffer putValue(long[] src) { scatter(LLVMOpInfo1.VALUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Value} field of the structs between the current position and limit. */
+        public LLVMOpInfo1.Buffer putValue(LongBuffer src) { scatter(LLVMOpInfo1.VALUE, src); return this; }
+        /** Copies the values in the specified array to the {@code VariantKind} field of the structs between the current position and limit. */
+        public LLVMOpInfo1.Buffer putVariantKind(long[] src) { scatter(LLVMOpInfo1.VARIANTKIND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code VariantKind} field of the structs between the current position and limit. */
+        public LLVMOpInfo1.Buffer putVariantKind(LongBuffer src) { scatter(LLVMOpInfo1.VARIANTKIND, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -238,6 +238,24 @@ public class LLVMOpInfoSymbol1 extends Struct implements NativeResource {
         return wrap(LLVMOpInfoSymbol1.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LLVMOpInfoSymbol1} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LLVMOpInfoSymbol1 malloc(MemoryArena arena) {
+        return wrap(LLVMOpInfoSymbol1.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LLVMOpInfoSymbol1} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LLVMOpInfoSymbol1 calloc(MemoryArena arena) {
+        return wrap(LLVMOpInfoSymbol1.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LLVMOpInfoSymbol1.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class LLVMOpInfoSymbol1 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LLVMOpInfoSymbol1.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LLVMOpInfoSymbol1.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LLVMOpInfoSymbol1.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LLVMOpInfoSymbol1.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Present}. */
@@ -357,6 +395,24 @@ public class LLVMOpInfoSymbol1 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code Value} field. */
         public LLVMOpInfoSymbol1.Buffer Value(@NativeType("uint64_t") long value) { LLVMOpInfoSymbol1.nValue(address(), value); return this; }
 
+        /** Copies the {@code Present} field of the structs between the current position and limit to the specified array. */
+        public LLVMOpInfoSymbol1.Buffer getPresent(long[] dst) { gather(LLVMOpInfoSymbol1.PRESENT, dst); return this; }
+        /** Copies the {@code Present} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOpInfoSymbol1.Buffer getPresent(LongBuffer dst) { gather(LLVMOpInfoSymbol1.PRESENT, dst); return this; }
+        /** Copies the {@code Value} field of the structs between the current position and limit to the specified array. */
+        public LLVMOpInfoSymbol1.Buffer getValue(long[] dst) { gather(LLVMOpInfoSymbol1.VALUE, dst); return this; }
+        /** Copies the {@code Value} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOpInfoSymbol1.Buffer getValue(LongBuffer dst) { gather(LLVMOpInfoSymbol1.VALUE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code Present} field of the structs between the current position and limit. */
+        public LLVMOpInfoSymbol1.Buffer putPresent(long[] src) { scatter(LLVMOpInfoSymbol1.PRESENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Present} field of the structs between the current position and limit. */
+        public LLVMOpInfoSymbol1.Buffer putPresent(LongBuffer src) { scatter(LLVMOpInfoSymbol1.PRESENT, src); return this; }
+        /** Copies the values in the specified array to the {@code Value} field of the structs between the current position and limit. */
+        public LLVMOpInfoSymbol1.Buffer putValue(long[] src) { scatter(LLVMOpInfoSymbol1.VALUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Value} field of the structs between the current position and limit. */
+        public LLVMOpInfoSymbol1.Buffer putValue(LongBuffer src) { scatter(LLVMOpInfoSymbol1.VALUE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -169,6 +169,15 @@ public class LLVMOptRemarkDebugLoc extends Struct {
         @NativeType("uint32_t")
         public int SourceColumnNumber() { return LLVMOptRemarkDebugLoc.nSourceColumnNumber(address()); }
 
+        /** Copies the {@code SourceLineNumber} field of the structs between the current position and limit to the specified array. */
+        public LLVMOptRemarkDebugLoc.Buffer getSourceLineNumber(int[] dst) { gather(LLVMOptRemarkDebugLoc.SOURCELINENUMBER, dst); return this; }
+        /** Copies the {@code SourceLineNumber} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOptRemarkDebugLoc.Buffer getSourceLineNumber(IntBuffer dst) { gather(LLVMOptRemarkDebugLoc.SOURCELINENUMBER, dst); return this; }
+        /** Copies the {@code SourceColumnNumber} field of the structs between the current position and limit to the specified array. */
+        public LLVMOptRemarkDebugLoc.Buffer getSourceColumnNumber(int[] dst) { gather(LLVMOptRemarkDebugLoc.SOURCECOLUMNNUMBER, dst); return this; }
+        /** Copies the {@code SourceColumnNumber} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOptRemarkDebugLoc.Buffer getSourceColumnNumber(IntBuffer dst) { gather(LLVMOptRemarkDebugLoc.SOURCECOLUMNNUMBER, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -225,6 +225,15 @@ public class LLVMOptRemarkEntry extends Struct {
         @NativeType("LLVMOptRemarkArg *")
         public LLVMOptRemarkArg.Buffer Args() { return LLVMOptRemarkEntry.nArgs(address()); }
 
+        /** Copies the {@code Hotness} field of the structs between the current position and limit to the specified array. */
+        public LLVMOptRemarkEntry.Buffer getHotness(int[] dst) { gather(LLVMOptRemarkEntry.HOTNESS, dst); return this; }
+        /** Copies the {@code Hotness} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOptRemarkEntry.Buffer getHotness(IntBuffer dst) { gather(LLVMOptRemarkEntry.HOTNESS, dst); return this; }
+        /** Copies the {@code NumArgs} field of the structs between the current position and limit to the specified array. */
+        public LLVMOptRemarkEntry.Buffer getNumArgs(int[] dst) { gather(LLVMOptRemarkEntry.NUMARGS, dst); return this; }
+        /** Copies the {@code NumArgs} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOptRemarkEntry.Buffer getNumArgs(IntBuffer dst) { gather(LLVMOptRemarkEntry.NUMARGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
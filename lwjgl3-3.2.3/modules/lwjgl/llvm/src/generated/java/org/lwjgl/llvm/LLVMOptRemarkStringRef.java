@@ -159,6 +159,11 @@ public class LLVMOptRemarkStringRef extends Struct {
         @NativeType("uint32_t")
         public int Len() { return LLVMOptRemarkStringRef.nLen(address()); }
 
+        /** Copies the {@code Len} field of the structs between the current position and limit to the specified array. */
+        public LLVMOptRemarkStringRef.Buffer getLen(int[] dst) { gather(LLVMOptRemarkStringRef.LEN, dst); return this; }
+        /** Copies the {@code Len} field of the structs between the current position and limit to the specified buffer. */
+        public LLVMOptRemarkStringRef.Buffer getLen(IntBuffer dst) { gather(LLVMOptRemarkStringRef.LEN, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ public class LLVMOptRemarks {
 
     public static final int OPT_REMARKS_API_VERSION = 0;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMOptRemarks.class, "LLVMOptRemarkParserCreate,LLVMOptRemarkParserGetNext,LLVMOptRemarkParserHasError,LLVMOptRemarkParserGetErrorMessage,LLVMOptRemarkParserDispose,LLVMOptRemarkVersion");
+
     protected LLVMOptRemarks() {
         throw new UnsupportedOperationException();
     }
@@ -45,7 +47,8 @@ public class LLVMOptRemarks {
     /** Unsafe version of: {@link #LLVMOptRemarkParserCreate OptRemarkParserCreate} */
     public static long nLLVMOptRemarkParserCreate(long Buf, long Size) {
         long __functionAddress = Functions.OptRemarkParserCreate;
-        return invokePJP(Buf, Size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePJP(Buf, Size, __functionAddress));
     }
 
     /**
@@ -68,7 +71,8 @@ public class LLVMOptRemarks {
         if (CHECKS) {
             check(Parser);
         }
-        return invokePP(Parser, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(Parser, __functionAddress));
     }
 
     /**
@@ -121,7 +125,8 @@ public class LLVMOptRemarks {
         if (CHECKS) {
             check(Parser);
         }
-        return invokePI(Parser, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePI(Parser, __functionAddress)) != 0;
     }
 
     // --- [ LLVMOptRemarkParserGetErrorMessage ] ---
@@ -132,7 +137,8 @@ public class LLVMOptRemarks {
         if (CHECKS) {
             check(Parser);
         }
-        return invokePP(Parser, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(Parser, __functionAddress));
     }
 
     /**
@@ -158,7 +164,9 @@ public class LLVMOptRemarks {
         if (CHECKS) {
             check(Parser);
         }
+        long __start = FunctionProfiler.start();
         invokePV(Parser, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LLVMOptRemarkVersion ] ---
@@ -174,7 +182,8 @@ public class LLVMOptRemarks {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokeI(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class LLVMSupport {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMSupport.class, "LLVMLoadLibraryPermanently,LLVMParseCommandLineOptions,LLVMSearchForAddressOfSymbol,LLVMAddSymbol");
+
     protected LLVMSupport() {
         throw new UnsupportedOperationException();
     }
@@ -42,7 +44,8 @@ public class LLVMSupport {
     /** Unsafe version of: {@link #LLVMLoadLibraryPermanently LoadLibraryPermanently} */
     public static int nLLVMLoadLibraryPermanently(long Filename) {
         long __functionAddress = Functions.LoadLibraryPermanently;
-        return invokePI(Filename, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePI(Filename, __functionAddress));
     }
 
     /** This function permanently loads the dynamic library at the given path. It is safe to call this function multiple times for the same library. */
@@ -72,7 +75,9 @@ public class LLVMSupport {
     /** Unsafe version of: {@link #LLVMParseCommandLineOptions ParseCommandLineOptions} */
     public static void nLLVMParseCommandLineOptions(int argc, long argv, long Overview) {
         long __functionAddress = Functions.ParseCommandLineOptions;
+        long __start = FunctionProfiler.start();
         invokePPV(argc, argv, Overview, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -110,7 +115,8 @@ public class LLVMSupport {
     /** Unsafe version of: {@link #LLVMSearchForAddressOfSymbol SearchForAddressOfSymbol} */
     public static long nLLVMSearchForAddressOfSymbol(long symbolName) {
         long __functionAddress = Functions.SearchForAddressOfSymbol;
-        return invokePP(symbolName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(symbolName, __functionAddress));
     }
 
     /**
@@ -149,7 +155,9 @@ public class LLVMSupport {
         if (CHECKS) {
             check(symbolValue);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(symbolName, symbolValue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** This functions permanently adds the symbol {@code symbolName} with the value {@code symbolValue}. These symbols are searched before any libraries. */
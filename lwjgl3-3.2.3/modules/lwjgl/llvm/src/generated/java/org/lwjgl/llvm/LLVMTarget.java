@@ -33,6 +33,8 @@ public class LLVMTarget {
         LLVMBigEndian    = 0,
         LLVMLittleEndian = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMTarget.class, "LLVMGetModuleDataLayout,LLVMSetModuleDataLayout,LLVMCreateTargetData,LLVMDisposeTargetData,LLVMAddTargetLibraryInfo,LLVMCopyStringRepOfTargetData,LLVMByteOrder,LLVMPointerSize,LLVMPointerSizeForAS,LLVMIntPtrType,LLVMIntPtrTypeForAS,LLVMIntPtrTypeInContext,LLVMIntPtrTypeForASInContext,LLVMSizeOfTypeInBits,LLVMStoreSizeOfType,LLVMABISizeOfType,LLVMABIAlignmentOfType,LLVMCallFrameAlignmentOfType,LLVMPreferredAlignmentOfType,LLVMPreferredAlignmentOfGlobal,LLVMElementAtOffset,LLVMOffsetOfElement");
+
     protected LLVMTarget() {
         throw new UnsupportedOperationException();
     }
@@ -78,7 +80,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(M);
         }
-        return invokePP(M, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(M, __functionAddress));
     }
 
     // --- [ LLVMSetModuleDataLayout ] ---
@@ -90,7 +93,9 @@ public class LLVMTarget {
             check(M);
             check(DL);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(M, DL, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMCreateTargetData ] ---
@@ -98,7 +103,8 @@ public class LLVMTarget {
     /** Unsafe version of: {@link #LLVMCreateTargetData CreateTargetData} */
     public static long nLLVMCreateTargetData(long StringRep) {
         long __functionAddress = Functions.CreateTargetData;
-        return invokePP(StringRep, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(StringRep, __functionAddress));
     }
 
     /** Creates target data from a target layout string. See the constructor {@code llvm::DataLayout::DataLayout}. */
@@ -131,7 +137,9 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
+        long __start = FunctionProfiler.start();
         invokePV(TD, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ LLVMAddTargetLibraryInfo ] ---
@@ -146,7 +154,9 @@ public class LLVMTarget {
             check(TLI);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(TLI, PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LLVMCopyStringRepOfTargetData ] ---
@@ -157,7 +167,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
-        return invokePP(TD, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePP(TD, __functionAddress));
     }
 
     /**
@@ -180,7 +191,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
-        return invokePI(TD, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePI(TD, __functionAddress));
     }
 
     // --- [ LLVMPointerSize ] ---
@@ -192,7 +204,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
-        return invokePI(TD, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePI(TD, __functionAddress));
     }
 
     // --- [ LLVMPointerSizeForAS ] ---
@@ -204,7 +217,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
-        return invokePI(TD, AS, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePI(TD, AS, __functionAddress));
     }
 
     // --- [ LLVMIntPtrType ] ---
@@ -216,7 +230,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
-        return invokePP(TD, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePP(TD, __functionAddress));
     }
 
     // --- [ LLVMIntPtrTypeForAS ] ---
@@ -231,7 +246,8 @@ public class LLVMTarget {
         if (CHECKS) {
             check(TD);
         }
-        return invokePP(TD, AS, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePP(TD, AS, __functionAddress));
     }
 
     // --- [ LLVMIntPtrTypeInContext ] ---
@@ -244,7 +260,8 @@ public class LLVMTarget {
             check(C);
             check(TD);
         }
-        return invokePPP(C, TD, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPP(C, TD, __functionAddress));
     }
 
     // --- [ LLVMIntPtrTypeForASInContext ] ---
@@ -260,7 +277,8 @@ public class LLVMTarget {
             check(C);
             check(TD);
         }
-        return invokePPP(C, TD, AS, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPP(C, TD, AS, __functionAddress));
     }
 
     // --- [ LLVMSizeOfTypeInBits ] ---
@@ -273,7 +291,8 @@ public class LLVMTarget {
             check(TD);
             check(Ty);
         }
-        return invokePPJ(TD, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPJ(TD, Ty, __functionAddress));
     }
 
     // --- [ LLVMStoreSizeOfType ] ---
@@ -286,7 +305,8 @@ public class LLVMTarget {
             check(TD);
             check(Ty);
         }
-        return invokePPJ(TD, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPJ(TD, Ty, __functionAddress));
     }
 
     // --- [ LLVMABISizeOfType ] ---
@@ -299,7 +319,8 @@ public class LLVMTarget {
             check(TD);
             check(Ty);
         }
-        return invokePPJ(TD, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePPJ(TD, Ty, __functionAddress));
     }
 
     // --- [ LLVMABIAlignmentOfType ] ---
@@ -312,7 +333,8 @@ public class LLVMTarget {
             check(TD);
             check(Ty);
         }
-        return invokePPI(TD, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePPI(TD, Ty, __functionAddress));
     }
 
     // --- [ LLVMCallFrameAlignmentOfType ] ---
@@ -325,7 +347,8 @@ public class LLVMTarget {
             check(TD);
             check(Ty);
         }
-        return invokePPI(TD, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePPI(TD, Ty, __functionAddress));
     }
 
     // --- [ LLVMPreferredAlignmentOfType ] ---
@@ -338,7 +361,8 @@ public class LLVMTarget {
             check(TD);
             check(Ty);
         }
-        return invokePPI(TD, Ty, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePPI(TD, Ty, __functionAddress));
     }
 
     // --- [ LLVMPreferredAlignmentOfGlobal ] ---
@@ -351,7 +375,8 @@ public class LLVMTarget {
             check(TD);
             check(GlobalVar);
         }
-        return invokePPI(TD, GlobalVar, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokePPI(TD, GlobalVar, __functionAddress));
     }
 
     // --- [ LLVMElementAtOffset ] ---
@@ -364,7 +389,8 @@ public class LLVMTarget {
             check(TD);
             check(StructTy);
         }
-        return invokePPJI(TD, StructTy, Offset, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePPJI(TD, StructTy, Offset, __functionAddress));
     }
 
     // --- [ LLVMOffsetOfElement ] ---
@@ -377,7 +403,8 @@ public class LLVMTarget {
             check(TD);
             check(StructTy);
         }
-        return invokePPJ(TD, StructTy, Element, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokePPJ(TD, StructTy, Element, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -101,6 +101,8 @@ public class LLVMTargetMachine {
         LLVMAssemblyFile = 0,
         LLVMObjectFile   = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMTargetMachine.class, "LLVMGetFirstTarget,LLVMGetNextTarget,LLVMGetTargetFromName,LLVMGetTargetFromTriple,LLVMGetTargetName,LLVMGetTargetDescription,LLVMTargetHasJIT,LLVMTargetHasTargetMachine,LLVMTargetHasAsmBackend,LLVMCreateTargetMachine,LLVMDisposeTargetMachine,LLVMGetTargetMachineTarget,LLVMGetTargetMachineTriple,LLVMGetTargetMachineCPU,LLVMGetTargetMachineFeatureString,LLVMCreateTargetDataLayout,LLVMSetTargetMachineAsmVerbosity,LLVMTargetMachineEmitToFile,LLVMTargetMachineEmitToMemoryBuffer,LLVMGetDefaultTargetTriple,LLVMNormalizeTargetTriple,LLVMGetHostCPUName,LLVMGetHostCPUFeatures,LLVMAddAnalysisPasses");
+
     protected LLVMTargetMachine() {
         throw new UnsupportedOperationException();
     }
@@ -145,7 +147,8 @@ public class LLVMTargetMachine {
     @NativeType("LLVMTargetRef")
     public static long LLVMGetFirstTarget() {
         long __functionAddress = Functions.GetFirstTarget;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMGetNextTarget ] ---
@@ -157,7 +160,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(T, __functionAddress));
     }
 
     // --- [ LLVMGetTargetFromName ] ---
@@ -165,7 +169,8 @@ public class LLVMTargetMachine {
     /** Unsafe version of: {@link #LLVMGetTargetFromName GetTargetFromName} */
     public static long nLLVMGetTargetFromName(long Name) {
         long __functionAddress = Functions.GetTargetFromName;
-        return invokePP(Name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePP(Name, __functionAddress));
     }
 
     /** Finds the target corresponding to the given name and stores it in {@code T}. Returns 0 on success. */
@@ -195,7 +200,8 @@ public class LLVMTargetMachine {
     /** Unsafe version of: {@link #LLVMGetTargetFromTriple GetTargetFromTriple} */
     public static int nLLVMGetTargetFromTriple(long Triple, long T, long ErrorMessage) {
         long __functionAddress = Functions.GetTargetFromTriple;
-        return invokePPPI(Triple, T, ErrorMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPPI(Triple, T, ErrorMessage, __functionAddress));
     }
 
     /**
@@ -240,7 +246,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePP(T, __functionAddress));
     }
 
     /** Returns the name of a target. See {@code llvm::Target::getName} */
@@ -259,7 +266,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePP(T, __functionAddress));
     }
 
     /** Returns the description  of a target. See {@code llvm::Target::getDescription} */
@@ -279,7 +287,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePI(T, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePI(T, __functionAddress)) != 0;
     }
 
     // --- [ LLVMTargetHasTargetMachine ] ---
@@ -291,7 +300,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePI(T, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePI(T, __functionAddress)) != 0;
     }
 
     // --- [ LLVMTargetHasAsmBackend ] ---
@@ -303,7 +313,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePI(T, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePI(T, __functionAddress)) != 0;
     }
 
     // --- [ LLVMCreateTargetMachine ] ---
@@ -314,7 +325,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePPPPP(T, Triple, CPU, Features, Level, Reloc, CodeModel, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPPPP(T, Triple, CPU, Features, Level, Reloc, CodeModel, __functionAddress));
     }
 
     /** Creates a new {@code llvm::TargetMachine}. See {@code llvm::Target::createTargetMachine} */
@@ -353,7 +365,9 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
+        long __start = FunctionProfiler.start();
         invokePV(T, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ LLVMGetTargetMachineTarget ] ---
@@ -365,7 +379,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePP(T, __functionAddress));
     }
 
     // --- [ LLVMGetTargetMachineTriple ] ---
@@ -376,7 +391,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePP(T, __functionAddress));
     }
 
     /**
@@ -398,7 +414,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(T, __functionAddress));
     }
 
     /** Returns the cpu used creating this target machine. See {@code llvm::TargetMachine::getCPU}. The result needs to be disposed with {@link LLVMCore#LLVMDisposeMessage DisposeMessage}. */
@@ -417,7 +434,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePP(T, __functionAddress));
     }
 
     /**
@@ -440,7 +458,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
-        return invokePP(T, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePP(T, __functionAddress));
     }
 
     // --- [ LLVMSetTargetMachineAsmVerbosity ] ---
@@ -451,7 +470,9 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(T);
         }
+        long __start = FunctionProfiler.start();
         invokePV(T, VerboseAsm ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ LLVMTargetMachineEmitToFile ] ---
@@ -463,7 +484,8 @@ public class LLVMTargetMachine {
             check(T);
             check(M);
         }
-        return invokePPPPI(T, M, Filename, codegen, ErrorMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePPPPI(T, M, Filename, codegen, ErrorMessage, __functionAddress));
     }
 
     /**
@@ -488,7 +510,8 @@ public class LLVMTargetMachine {
             check(T);
             check(M);
         }
-        return invokePPPPI(T, M, codegen, ErrorMessage, OutMemBuf, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePPPPI(T, M, codegen, ErrorMessage, OutMemBuf, __functionAddress));
     }
 
     /** Compile the LLVM IR stored in {@code M} and store the result in {@code OutMemBuf}. */
@@ -506,7 +529,8 @@ public class LLVMTargetMachine {
     /** Unsafe version of: {@link #LLVMGetDefaultTargetTriple GetDefaultTargetTriple} */
     public static long nLLVMGetDefaultTargetTriple() {
         long __functionAddress = Functions.GetDefaultTargetTriple;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokeP(__functionAddress));
     }
 
     /** Get a triple for the host machine as a string. The result needs to be disposed with {@link LLVMCore#LLVMDisposeMessage DisposeMessage}. */
@@ -525,7 +549,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePP(triple, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePP(triple, __functionAddress));
     }
 
     /** Normalize a target triple. The result needs to be disposed with {@link LLVMCore#LLVMDisposeMessage DisposeMessage}. */
@@ -562,7 +587,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokeP(__functionAddress));
     }
 
     /** Get the host CPU as a string. The result needs to be disposed with {@link LLVMCore#LLVMDisposeMessage DisposeMessage}. */
@@ -581,7 +607,8 @@ public class LLVMTargetMachine {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokeP(__functionAddress));
     }
 
     /** Get the host CPU's features as a string. The result needs to be disposed with {@link LLVMCore#LLVMDisposeMessage DisposeMessage}. */
@@ -601,7 +628,9 @@ public class LLVMTargetMachine {
             check(T);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(T, PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
 }
\ No newline at end of file
@@ -12,6 +12,8 @@ import static org.lwjgl.system.JNI.*;
 
 public class LLVMTargetX86 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMTargetX86.class, "LLVMInitializeX86TargetInfo,LLVMInitializeX86Target,LLVMInitializeX86TargetMC,LLVMInitializeX86AsmPrinter,LLVMInitializeX86AsmParser,LLVMInitializeX86Disassembler");
+
     protected LLVMTargetX86() {
         throw new UnsupportedOperationException();
     }
@@ -36,42 +38,54 @@ public class LLVMTargetX86 {
 
     public static void LLVMInitializeX86TargetInfo() {
         long __functionAddress = Functions.InitializeX86TargetInfo;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ LLVMInitializeX86Target ] ---
 
     public static void LLVMInitializeX86Target() {
         long __functionAddress = Functions.InitializeX86Target;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMInitializeX86TargetMC ] ---
 
     public static void LLVMInitializeX86TargetMC() {
         long __functionAddress = Functions.InitializeX86TargetMC;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ LLVMInitializeX86AsmPrinter ] ---
 
     public static void LLVMInitializeX86AsmPrinter() {
         long __functionAddress = Functions.InitializeX86AsmPrinter;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ LLVMInitializeX86AsmParser ] ---
 
     public static void LLVMInitializeX86AsmParser() {
         long __functionAddress = Functions.InitializeX86AsmParser;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LLVMInitializeX86Disassembler ] ---
 
     public static void LLVMInitializeX86Disassembler() {
         long __functionAddress = Functions.InitializeX86Disassembler;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
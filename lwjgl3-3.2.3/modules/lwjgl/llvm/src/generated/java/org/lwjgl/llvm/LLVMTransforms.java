@@ -13,6 +13,8 @@ import static org.lwjgl.system.JNI.*;
 
 public class LLVMTransforms {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LLVMTransforms.class, "LLVMAddAggressiveInstCombinerPass,LLVMAddCoroEarlyPass,LLVMAddCoroSplitPass,LLVMAddCoroElidePass,LLVMAddCoroCleanupPass,LLVMAddInstructionCombiningPass,LLVMAddArgumentPromotionPass,LLVMAddConstantMergePass,LLVMAddCalledValuePropagationPass,LLVMAddDeadArgEliminationPass,LLVMAddFunctionAttrsPass,LLVMAddFunctionInliningPass,LLVMAddAlwaysInlinerPass,LLVMAddGlobalDCEPass,LLVMAddGlobalOptimizerPass,LLVMAddIPConstantPropagationPass,LLVMAddPruneEHPass,LLVMAddIPSCCPPass,LLVMAddInternalizePass,LLVMAddStripDeadPrototypesPass,LLVMAddStripSymbolsPass,LLVMPassManagerBuilderCreate,LLVMPassManagerBuilderDispose,LLVMPassManagerBuilderSetOptLevel,LLVMPassManagerBuilderSetSizeLevel,LLVMPassManagerBuilderSetDisableUnitAtATime,LLVMPassManagerBuilderSetDisableUnrollLoops,LLVMPassManagerBuilderSetDisableSimplifyLibCalls,LLVMPassManagerBuilderUseInlinerWithThreshold,LLVMPassManagerBuilderPopulateFunctionPassManager,LLVMPassManagerBuilderPopulateModulePassManager,LLVMPassManagerBuilderPopulateLTOPassManager,LLVMAddAggressiveDCEPass,LLVMAddBitTrackingDCEPass,LLVMAddAlignmentFromAssumptionsPass,LLVMAddCFGSimplificationPass,LLVMAddDeadStoreEliminationPass,LLVMAddScalarizerPass,LLVMAddMergedLoadStoreMotionPass,LLVMAddGVNPass,LLVMAddNewGVNPass,LLVMAddIndVarSimplifyPass,LLVMAddJumpThreadingPass,LLVMAddLICMPass,LLVMAddLoopDeletionPass,LLVMAddLoopIdiomPass,LLVMAddLoopRotatePass,LLVMAddLoopRerollPass,LLVMAddLoopUnrollPass,LLVMAddLoopUnrollAndJamPass,LLVMAddLoopUnswitchPass,LLVMAddLowerAtomicPass,LLVMAddMemCpyOptPass,LLVMAddPartiallyInlineLibCallsPass,LLVMAddReassociatePass,LLVMAddSCCPPass,LLVMAddScalarReplAggregatesPass,LLVMAddScalarReplAggregatesPassSSA,LLVMAddScalarReplAggregatesPassWithThreshold,LLVMAddSimplifyLibCallsPass,LLVMAddTailCallEliminationPass,LLVMAddConstantPropagationPass,LLVMAddDemoteMemoryToRegisterPass,LLVMAddVerifierPass,LLVMAddCorrelatedValuePropagationPass,LLVMAddEarlyCSEPass,LLVMAddEarlyCSEMemSSAPass,LLVMAddLowerExpectIntrinsicPass,LLVMAddTypeBasedAliasAnalysisPass,LLVMAddScopedNoAliasAAPass,LLVMAddBasicAliasAnalysisPass,LLVMAddUnifyFunctionExitNodesPass,LLVMAddLowerSwitchPass,LLVMAddPromoteMemoryToRegisterPass,LLVMAddLoopVectorizePass,LLVMAddSLPVectorizePass");
+
     protected LLVMTransforms() {
         throw new UnsupportedOperationException();
     }
@@ -112,7 +114,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ LLVMAddCoroEarlyPass ] ---
@@ -124,7 +128,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ LLVMAddCoroSplitPass ] ---
@@ -136,7 +142,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ LLVMAddCoroElidePass ] ---
@@ -148,7 +156,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ LLVMAddCoroCleanupPass ] ---
@@ -160,7 +170,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LLVMAddInstructionCombiningPass ] ---
@@ -171,7 +183,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ LLVMAddArgumentPromotionPass ] ---
@@ -182,7 +196,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ LLVMAddConstantMergePass ] ---
@@ -193,7 +209,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ LLVMAddCalledValuePropagationPass ] ---
@@ -205,7 +223,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ LLVMAddDeadArgEliminationPass ] ---
@@ -216,7 +236,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ LLVMAddFunctionAttrsPass ] ---
@@ -227,7 +249,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ LLVMAddFunctionInliningPass ] ---
@@ -238,7 +262,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ LLVMAddAlwaysInlinerPass ] ---
@@ -249,7 +275,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ LLVMAddGlobalDCEPass ] ---
@@ -260,7 +288,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ LLVMAddGlobalOptimizerPass ] ---
@@ -271,7 +301,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ LLVMAddIPConstantPropagationPass ] ---
@@ -282,7 +314,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ LLVMAddPruneEHPass ] ---
@@ -293,7 +327,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ LLVMAddIPSCCPPass ] ---
@@ -304,7 +340,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ LLVMAddInternalizePass ] ---
@@ -315,7 +353,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, AllButMain, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ LLVMAddStripDeadPrototypesPass ] ---
@@ -326,7 +366,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ LLVMAddStripSymbolsPass ] ---
@@ -337,7 +379,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ LLVMPassManagerBuilderCreate ] ---
@@ -346,7 +390,8 @@ public class LLVMTransforms {
     @NativeType("LLVMPassManagerBuilderRef")
     public static long LLVMPassManagerBuilderCreate() {
         long __functionAddress = Functions.PassManagerBuilderCreate;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, invokeP(__functionAddress));
     }
 
     // --- [ LLVMPassManagerBuilderDispose ] ---
@@ -356,7 +401,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ LLVMPassManagerBuilderSetOptLevel ] ---
@@ -367,7 +414,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, OptLevel, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ LLVMPassManagerBuilderSetSizeLevel ] ---
@@ -378,7 +427,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, SizeLevel, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ LLVMPassManagerBuilderSetDisableUnitAtATime ] ---
@@ -389,7 +440,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, Value ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ LLVMPassManagerBuilderSetDisableUnrollLoops ] ---
@@ -400,7 +453,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, Value ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ LLVMPassManagerBuilderSetDisableSimplifyLibCalls ] ---
@@ -411,7 +466,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, Value ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ LLVMPassManagerBuilderUseInlinerWithThreshold ] ---
@@ -422,7 +479,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PMB);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PMB, Threshold, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ LLVMPassManagerBuilderPopulateFunctionPassManager ] ---
@@ -434,7 +493,9 @@ public class LLVMTransforms {
             check(PMB);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(PMB, PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ LLVMPassManagerBuilderPopulateModulePassManager ] ---
@@ -446,7 +507,9 @@ public class LLVMTransforms {
             check(PMB);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(PMB, PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ LLVMPassManagerBuilderPopulateLTOPassManager ] ---
@@ -458,7 +521,9 @@ public class LLVMTransforms {
             check(PMB);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(PMB, PM, Internalize ? 1 : 0, RunInliner ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ LLVMAddAggressiveDCEPass ] ---
@@ -469,7 +534,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ LLVMAddBitTrackingDCEPass ] ---
@@ -480,7 +547,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ LLVMAddAlignmentFromAssumptionsPass ] ---
@@ -491,7 +560,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ LLVMAddCFGSimplificationPass ] ---
@@ -502,7 +573,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ LLVMAddDeadStoreEliminationPass ] ---
@@ -513,7 +586,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ LLVMAddScalarizerPass ] ---
@@ -524,7 +599,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ LLVMAddMergedLoadStoreMotionPass ] ---
@@ -535,7 +612,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ LLVMAddGVNPass ] ---
@@ -546,7 +625,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ LLVMAddNewGVNPass ] ---
@@ -557,7 +638,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ LLVMAddIndVarSimplifyPass ] ---
@@ -568,7 +651,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ LLVMAddJumpThreadingPass ] ---
@@ -579,7 +664,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ LLVMAddLICMPass ] ---
@@ -590,7 +677,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ LLVMAddLoopDeletionPass ] ---
@@ -601,7 +690,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ LLVMAddLoopIdiomPass ] ---
@@ -612,7 +703,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ LLVMAddLoopRotatePass ] ---
@@ -623,7 +716,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ LLVMAddLoopRerollPass ] ---
@@ -634,7 +729,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ LLVMAddLoopUnrollPass ] ---
@@ -645,7 +742,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ LLVMAddLoopUnrollAndJamPass ] ---
@@ -657,7 +756,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ LLVMAddLoopUnswitchPass ] ---
@@ -668,7 +769,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ LLVMAddLowerAtomicPass ] ---
@@ -680,7 +783,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ LLVMAddMemCpyOptPass ] ---
@@ -691,7 +796,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     // --- [ LLVMAddPartiallyInlineLibCallsPass ] ---
@@ -702,7 +809,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ LLVMAddReassociatePass ] ---
@@ -713,7 +822,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ LLVMAddSCCPPass ] ---
@@ -724,7 +835,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ LLVMAddScalarReplAggregatesPass ] ---
@@ -735,7 +848,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ LLVMAddScalarReplAggregatesPassSSA ] ---
@@ -746,7 +861,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ LLVMAddScalarReplAggregatesPassWithThreshold ] ---
@@ -757,7 +874,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, Threshold, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     // --- [ LLVMAddSimplifyLibCallsPass ] ---
@@ -768,7 +887,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     // --- [ LLVMAddTailCallEliminationPass ] ---
@@ -779,7 +900,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ LLVMAddConstantPropagationPass ] ---
@@ -790,7 +913,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ LLVMAddDemoteMemoryToRegisterPass ] ---
@@ -801,7 +926,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     // --- [ LLVMAddVerifierPass ] ---
@@ -812,7 +939,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ LLVMAddCorrelatedValuePropagationPass ] ---
@@ -823,7 +952,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ LLVMAddEarlyCSEPass ] ---
@@ -834,7 +965,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ LLVMAddEarlyCSEMemSSAPass ] ---
@@ -845,7 +978,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     // --- [ LLVMAddLowerExpectIntrinsicPass ] ---
@@ -856,7 +991,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ LLVMAddTypeBasedAliasAnalysisPass ] ---
@@ -867,7 +1004,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     // --- [ LLVMAddScopedNoAliasAAPass ] ---
@@ -878,7 +1017,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     // --- [ LLVMAddBasicAliasAnalysisPass ] ---
@@ -889,7 +1030,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     // --- [ LLVMAddUnifyFunctionExitNodesPass ] ---
@@ -901,7 +1044,9 @@ public class LLVMTransforms {
             check(__functionAddress);
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     // --- [ LLVMAddLowerSwitchPass ] ---
@@ -912,7 +1057,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     // --- [ LLVMAddPromoteMemoryToRegisterPass ] ---
@@ -923,7 +1070,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     // --- [ LLVMAddLoopVectorizePass ] ---
@@ -934,7 +1083,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     // --- [ LLVMAddSLPVectorizePass ] ---
@@ -945,7 +1096,9 @@ public class LLVMTransforms {
         if (CHECKS) {
             check(PM);
         }
+        long __start = FunctionProfiler.start();
         invokePV(PM, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
 }
\ No newline at end of file
@@ -324,6 +324,8 @@ public class LMDB {
         MDB_BAD_DBI          = -30780,
         MDB_LAST_ERRCODE     = MDB_BAD_DBI;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LMDB.class, "mdb_version,mdb_strerror,mdb_env_create,mdb_env_open,mdb_env_copy,mdb_env_copy2,mdb_env_stat,mdb_env_info,mdb_env_sync,mdb_env_close,mdb_env_set_flags,mdb_env_get_flags,mdb_env_get_path,mdb_env_set_mapsize,mdb_env_set_maxreaders,mdb_env_get_maxreaders,mdb_env_set_maxdbs,mdb_env_get_maxkeysize,mdb_env_set_userctx,mdb_env_get_userctx,mdb_txn_begin,mdb_txn_env,mdb_txn_id,mdb_txn_commit,mdb_txn_abort,mdb_txn_reset,mdb_txn_renew,mdb_dbi_open,mdb_stat,mdb_dbi_flags,mdb_dbi_close,mdb_drop,mdb_set_compare,mdb_set_dupsort,mdb_set_relfunc,mdb_set_relctx,mdb_get,mdb_put,mdb_del,mdb_cursor_open,mdb_cursor_close,mdb_cursor_renew,mdb_cursor_txn,mdb_cursor_dbi,mdb_cursor_get,mdb_cursor_put,mdb_cursor_del,mdb_cursor_count,mdb_cmp,mdb_dcmp,mdb_reader_list,mdb_reader_check");
+
     static { LibLMDB.initialize(); }
 
     protected LMDB() {
@@ -352,7 +354,8 @@ public class LMDB {
             checkSafe(minor, 1);
             checkSafe(patch, 1);
         }
-        long __result = nmdb_version(memAddressSafe(major), memAddressSafe(minor), memAddressSafe(patch));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nmdb_version(memAddressSafe(major), memAddressSafe(minor), memAddressSafe(patch)));
         return memASCIISafe(__result);
     }
 
@@ -374,7 +377,8 @@ public class LMDB {
      */
     @NativeType("char *")
     public static String mdb_strerror(int err) {
-        long __result = nmdb_strerror(err);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nmdb_strerror(err));
         return memASCII(__result);
     }
 
@@ -398,7 +402,8 @@ public class LMDB {
         if (CHECKS) {
             check(env, 1);
         }
-        return nmdb_env_create(memAddress(env));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nmdb_env_create(memAddress(env)));
     }
 
     // --- [ mdb_env_open ] ---
@@ -514,7 +519,8 @@ public class LMDB {
             check(env);
             checkNT1(path);
         }
-        return nmdb_env_open(env, memAddress(path), flags, mode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nmdb_env_open(env, memAddress(path), flags, mode));
     }
 
     /**
@@ -628,7 +634,8 @@ public class LMDB {
         try {
             stack.nUTF8(path, true);
             long pathEncoded = stack.getPointerAddress();
-            return nmdb_env_open(env, pathEncoded, flags, mode);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nmdb_env_open(env, pathEncoded, flags, mode));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -656,7 +663,8 @@ public class LMDB {
             check(env);
             checkNT1(path);
         }
-        return nmdb_env_copy(env, memAddress(path));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nmdb_env_copy(env, memAddress(path)));
     }
 
     /**
@@ -679,7 +687,8 @@ public class LMDB {
         try {
             stack.nUTF8(path, true);
             long pathEncoded = stack.getPointerAddress();
-            return nmdb_env_copy(env, pathEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 4, __start, nmdb_env_copy(env, pathEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -711,7 +720,8 @@ public class LMDB {
             check(env);
             checkNT1(path);
         }
-        return nmdb_env_copy2(env, memAddress(path), flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nmdb_env_copy2(env, memAddress(path), flags));
     }
 
     /**
@@ -738,7 +748,8 @@ public class LMDB {
         try {
             stack.nUTF8(path, true);
             long pathEncoded = stack.getPointerAddress();
-            return nmdb_env_copy2(env, pathEncoded, flags);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 5, __start, nmdb_env_copy2(env, pathEncoded, flags));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -761,7 +772,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_stat(env, stat.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nmdb_env_stat(env, stat.address()));
     }
 
     // --- [ mdb_env_info ] ---
@@ -781,7 +793,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_info(env, stat.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nmdb_env_info(env, stat.address()));
     }
 
     // --- [ mdb_env_sync ] ---
@@ -812,7 +825,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_sync(env, force ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nmdb_env_sync(env, force ? 1 : 0));
     }
 
     // --- [ mdb_env_close ] ---
@@ -832,7 +846,9 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
+        long __start = FunctionProfiler.start();
         nmdb_env_close(env);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ mdb_env_set_flags ] ---
@@ -860,7 +876,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_set_flags(env, flags, onoff ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nmdb_env_set_flags(env, flags, onoff ? 1 : 0));
     }
 
     // --- [ mdb_env_get_flags ] ---
@@ -881,7 +898,8 @@ public class LMDB {
             check(env);
             check(flags, 1);
         }
-        return nmdb_env_get_flags(env, memAddress(flags));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nmdb_env_get_flags(env, memAddress(flags)));
     }
 
     // --- [ mdb_env_get_path ] ---
@@ -902,7 +920,8 @@ public class LMDB {
             check(env);
             check(path, 1);
         }
-        return nmdb_env_get_path(env, memAddress(path));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nmdb_env_get_path(env, memAddress(path)));
     }
 
     // --- [ mdb_env_set_mapsize ] ---
@@ -940,7 +959,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_set_mapsize(env, size);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nmdb_env_set_mapsize(env, size));
     }
 
     // --- [ mdb_env_set_maxreaders ] ---
@@ -971,7 +991,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_set_maxreaders(env, readers);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nmdb_env_set_maxreaders(env, readers));
     }
 
     // --- [ mdb_env_get_maxreaders ] ---
@@ -992,7 +1013,8 @@ public class LMDB {
             check(env);
             check(readers, 1);
         }
-        return nmdb_env_get_maxreaders(env, memAddress(readers));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nmdb_env_get_maxreaders(env, memAddress(readers)));
     }
 
     // --- [ mdb_env_set_maxdbs ] ---
@@ -1024,7 +1046,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_set_maxdbs(env, dbs);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nmdb_env_set_maxdbs(env, dbs));
     }
 
     // --- [ mdb_env_get_maxkeysize ] ---
@@ -1043,7 +1066,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_get_maxkeysize(env);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nmdb_env_get_maxkeysize(env));
     }
 
     // --- [ mdb_env_set_userctx ] ---
@@ -1062,7 +1086,8 @@ public class LMDB {
             check(env);
             check(ctx);
         }
-        return nmdb_env_set_userctx(env, ctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nmdb_env_set_userctx(env, ctx));
     }
 
     // --- [ mdb_env_get_userctx ] ---
@@ -1080,7 +1105,8 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
-        return nmdb_env_get_userctx(env);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nmdb_env_get_userctx(env));
     }
 
     // --- [ mdb_txn_begin ] ---
@@ -1124,7 +1150,8 @@ public class LMDB {
             check(env);
             check(txn, 1);
         }
-        return nmdb_txn_begin(env, parent, flags, memAddress(txn));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nmdb_txn_begin(env, parent, flags, memAddress(txn)));
     }
 
     // --- [ mdb_txn_env ] ---
@@ -1142,7 +1169,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_txn_env(txn);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nmdb_txn_env(txn));
     }
 
     // --- [ mdb_txn_id ] ---
@@ -1165,7 +1193,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_txn_id(txn);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nmdb_txn_id(txn));
     }
 
     // --- [ mdb_txn_commit ] ---
@@ -1195,7 +1224,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_txn_commit(txn);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nmdb_txn_commit(txn));
     }
 
     // --- [ mdb_txn_abort ] ---
@@ -1217,7 +1247,9 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
+        long __start = FunctionProfiler.start();
         nmdb_txn_abort(txn);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ mdb_txn_reset ] ---
@@ -1243,7 +1275,9 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
+        long __start = FunctionProfiler.start();
         nmdb_txn_reset(txn);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ mdb_txn_renew ] ---
@@ -1263,7 +1297,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_txn_renew(txn);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nmdb_txn_renew(txn));
     }
 
     // --- [ mdb_dbi_open ] ---
@@ -1333,7 +1368,8 @@ public class LMDB {
             checkNT1Safe(name);
             check(dbi, 1);
         }
-        return nmdb_dbi_open(txn, memAddressSafe(name), flags, memAddress(dbi));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nmdb_dbi_open(txn, memAddressSafe(name), flags, memAddress(dbi)));
     }
 
     /**
@@ -1401,7 +1437,8 @@ public class LMDB {
         try {
             stack.nUTF8Safe(name, true);
             long nameEncoded = name == null ? NULL : stack.getPointerAddress();
-            return nmdb_dbi_open(txn, nameEncoded, flags, memAddress(dbi));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 27, __start, nmdb_dbi_open(txn, nameEncoded, flags, memAddress(dbi)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1423,7 +1460,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_stat(txn, dbi, stat.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nmdb_stat(txn, dbi, stat.address()));
     }
 
     // --- [ mdb_dbi_flags ] ---
@@ -1443,7 +1481,8 @@ public class LMDB {
             check(txn);
             check(flags, 1);
         }
-        return nmdb_dbi_flags(txn, dbi, memAddress(flags));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nmdb_dbi_flags(txn, dbi, memAddress(flags)));
     }
 
     // --- [ mdb_dbi_close ] ---
@@ -1468,7 +1507,9 @@ public class LMDB {
         if (CHECKS) {
             check(env);
         }
+        long __start = FunctionProfiler.start();
         nmdb_dbi_close(env, dbi);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ mdb_drop ] ---
@@ -1489,7 +1530,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_drop(txn, dbi, del ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, nmdb_drop(txn, dbi, del ? 1 : 0));
     }
 
     // --- [ mdb_set_compare ] ---
@@ -1515,7 +1557,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_set_compare(txn, dbi, cmp.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, nmdb_set_compare(txn, dbi, cmp.address()));
     }
 
     // --- [ mdb_set_dupsort ] ---
@@ -1545,7 +1588,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_set_dupsort(txn, dbi, cmp.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nmdb_set_dupsort(txn, dbi, cmp.address()));
     }
 
     // --- [ mdb_set_relfunc ] ---
@@ -1570,7 +1614,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_set_relfunc(txn, dbi, rel.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, nmdb_set_relfunc(txn, dbi, rel.address()));
     }
 
     // --- [ mdb_set_relctx ] ---
@@ -1593,7 +1638,8 @@ public class LMDB {
             check(txn);
             check(ctx);
         }
-        return nmdb_set_relctx(txn, dbi, ctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nmdb_set_relctx(txn, dbi, ctx));
     }
 
     // --- [ mdb_get ] ---
@@ -1624,7 +1670,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_get(txn, dbi, key.address(), data.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nmdb_get(txn, dbi, key.address(), data.address()));
     }
 
     // --- [ mdb_put ] ---
@@ -1665,7 +1712,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_put(txn, dbi, key.address(), data.address(), flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, nmdb_put(txn, dbi, key.address(), data.address(), flags));
     }
 
     // --- [ mdb_del ] ---
@@ -1693,7 +1741,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_del(txn, dbi, key.address(), memAddressSafe(data));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, nmdb_del(txn, dbi, key.address(), memAddressSafe(data)));
     }
 
     // --- [ mdb_cursor_open ] ---
@@ -1725,7 +1774,8 @@ public class LMDB {
             check(txn);
             check(cursor, 1);
         }
-        return nmdb_cursor_open(txn, dbi, memAddress(cursor));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, nmdb_cursor_open(txn, dbi, memAddress(cursor)));
     }
 
     // --- [ mdb_cursor_close ] ---
@@ -1744,7 +1794,9 @@ public class LMDB {
         if (CHECKS) {
             check(cursor);
         }
+        long __start = FunctionProfiler.start();
         nmdb_cursor_close(cursor);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ mdb_cursor_renew ] ---
@@ -1767,7 +1819,8 @@ public class LMDB {
             check(txn);
             check(cursor);
         }
-        return nmdb_cursor_renew(txn, cursor);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, nmdb_cursor_renew(txn, cursor));
     }
 
     // --- [ mdb_cursor_txn ] ---
@@ -1785,7 +1838,8 @@ public class LMDB {
         if (CHECKS) {
             check(cursor);
         }
-        return nmdb_cursor_txn(cursor);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, nmdb_cursor_txn(cursor));
     }
 
     // --- [ mdb_cursor_dbi ] ---
@@ -1803,7 +1857,8 @@ public class LMDB {
         if (CHECKS) {
             check(cursor);
         }
-        return nmdb_cursor_dbi(cursor);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, nmdb_cursor_dbi(cursor));
     }
 
     // --- [ mdb_cursor_get ] ---
@@ -1829,7 +1884,8 @@ public class LMDB {
         if (CHECKS) {
             check(cursor);
         }
-        return nmdb_cursor_get(cursor, key.address(), data.address(), op);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nmdb_cursor_get(cursor, key.address(), data.address(), op));
     }
 
     // --- [ mdb_cursor_put ] ---
@@ -1874,7 +1930,8 @@ public class LMDB {
         if (CHECKS) {
             check(cursor);
         }
-        return nmdb_cursor_put(cursor, key.address(), data.address(), flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, nmdb_cursor_put(cursor, key.address(), data.address(), flags));
     }
 
     // --- [ mdb_cursor_del ] ---
@@ -1901,7 +1958,8 @@ public class LMDB {
         if (CHECKS) {
             check(cursor);
         }
-        return nmdb_cursor_del(cursor, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, nmdb_cursor_del(cursor, flags));
     }
 
     // --- [ mdb_cursor_count ] ---
@@ -1922,7 +1980,8 @@ public class LMDB {
             check(cursor);
             check(countp, 1);
         }
-        return nmdb_cursor_count(cursor, memAddress(countp));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, nmdb_cursor_count(cursor, memAddress(countp)));
     }
 
     // --- [ mdb_cmp ] ---
@@ -1946,7 +2005,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_cmp(txn, dbi, a.address(), b.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, nmdb_cmp(txn, dbi, a.address(), b.address()));
     }
 
     // --- [ mdb_dcmp ] ---
@@ -1970,7 +2030,8 @@ public class LMDB {
         if (CHECKS) {
             check(txn);
         }
-        return nmdb_dcmp(txn, dbi, a.address(), b.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, nmdb_dcmp(txn, dbi, a.address(), b.address()));
     }
 
     // --- [ mdb_reader_list ] ---
@@ -1990,7 +2051,8 @@ public class LMDB {
             check(env);
             check(ctx);
         }
-        return nmdb_reader_list(env, func.address(), ctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, nmdb_reader_list(env, func.address(), ctx));
     }
 
     // --- [ mdb_reader_check ] ---
@@ -2009,7 +2071,8 @@ public class LMDB {
             check(env);
             check(dead, 1);
         }
-        return nmdb_reader_check(env, memAddress(dead));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, nmdb_reader_check(env, memAddress(dead)));
     }
 
     /** Array version of: {@link #nmdb_version} */
@@ -2024,7 +2087,8 @@ public class LMDB {
             checkSafe(minor, 1);
             checkSafe(patch, 1);
         }
-        long __result = nmdb_version(major, minor, patch);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nmdb_version(major, minor, patch));
         return memASCIISafe(__result);
     }
 
@@ -2037,7 +2101,8 @@ public class LMDB {
             check(env);
             check(flags, 1);
         }
-        return nmdb_env_get_flags(env, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nmdb_env_get_flags(env, flags));
     }
 
     /** Array version of: {@link #nmdb_env_get_maxreaders} */
@@ -2049,7 +2114,8 @@ public class LMDB {
             check(env);
             check(readers, 1);
         }
-        return nmdb_env_get_maxreaders(env, readers);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nmdb_env_get_maxreaders(env, readers));
     }
 
     /** Array version of: {@link #nmdb_dbi_open} */
@@ -2062,7 +2128,8 @@ public class LMDB {
             checkNT1Safe(name);
             check(dbi, 1);
         }
-        return nmdb_dbi_open(txn, memAddressSafe(name), flags, dbi);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nmdb_dbi_open(txn, memAddressSafe(name), flags, dbi));
     }
 
     /** Array version of: {@link #mdb_dbi_open dbi_open} */
@@ -2075,7 +2142,8 @@ public class LMDB {
         try {
             stack.nUTF8Safe(name, true);
             long nameEncoded = name == null ? NULL : stack.getPointerAddress();
-            return nmdb_dbi_open(txn, nameEncoded, flags, dbi);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 27, __start, nmdb_dbi_open(txn, nameEncoded, flags, dbi));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2090,7 +2158,8 @@ public class LMDB {
             check(txn);
             check(flags, 1);
         }
-        return nmdb_dbi_flags(txn, dbi, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nmdb_dbi_flags(txn, dbi, flags));
     }
 
     /** Array version of: {@link #nmdb_reader_check} */
@@ -2102,7 +2171,8 @@ public class LMDB {
             check(env);
             check(dead, 1);
         }
-        return nmdb_reader_check(env, dead);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, nmdb_reader_check(env, dead));
     }
 
 }
\ No newline at end of file
@@ -7,8 +7,6 @@ package org.lwjgl.util.lmdb;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * <h3>Type</h3>
  * 
@@ -20,7 +18,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("MDB_cmp_func *")
-public interface MDBCmpFuncI extends CallbackI.I {
+public interface MDBCmpFuncI extends CallbackI.I_PP {
 
     String SIGNATURE = "(pp)i";
 
@@ -28,11 +26,8 @@ public interface MDBCmpFuncI extends CallbackI.I {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default int callback(long args) {
-        return invoke(
-            dcbArgPointer(args),
-            dcbArgPointer(args)
-        );
+    default int callback(long a, long b) {
+        return invoke(a, b);
     }
 
     /**
@@ -215,6 +215,24 @@ public class MDBEnvInfo extends Struct implements NativeResource {
         return wrap(MDBEnvInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code MDBEnvInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MDBEnvInfo malloc(MemoryArena arena) {
+        return wrap(MDBEnvInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code MDBEnvInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MDBEnvInfo calloc(MemoryArena arena) {
+        return wrap(MDBEnvInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link MDBEnvInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -253,6 +271,26 @@ public class MDBEnvInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link MDBEnvInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MDBEnvInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link MDBEnvInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MDBEnvInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #me_mapaddr}. */
@@ -325,6 +363,15 @@ public class MDBEnvInfo extends Struct implements NativeResource {
         @NativeType("unsigned int")
         public int me_numreaders() { return MDBEnvInfo.nme_numreaders(address()); }
 
+        /** Copies the {@code me_maxreaders} field of the structs between the current position and limit to the specified array. */
+        public MDBEnvInfo.Buffer getMe_maxreaders(int[] dst) { gather(MDBEnvInfo.ME_MAXREADERS, dst); return this; }
+        /** Copies the {@code me_maxreaders} field of the structs between the current position and limit to the specified buffer. */
+        public MDBEnvInfo.Buffer getMe_maxreaders(IntBuffer dst) { gather(MDBEnvInfo.ME_MAXREADERS, dst); return this; }
+        /** Copies the {@code me_numreaders} field of the structs between the current position and limit to the specified array. */
+        public MDBEnvInfo.Buffer getMe_numreaders(int[] dst) { gather(MDBEnvInfo.ME_NUMREADERS, dst); return this; }
+        /** Copies the {@code me_numreaders} field of the structs between the current position and limit to the specified buffer. */
+        public MDBEnvInfo.Buffer getMe_numreaders(IntBuffer dst) { gather(MDBEnvInfo.ME_NUMREADERS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
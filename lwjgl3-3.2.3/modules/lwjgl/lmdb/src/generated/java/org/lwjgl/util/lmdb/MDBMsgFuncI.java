@@ -7,8 +7,6 @@ package org.lwjgl.util.lmdb;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * A callback function used to print a message from the library.
  * 
@@ -22,7 +20,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("MDB_msg_func *")
-public interface MDBMsgFuncI extends CallbackI.I {
+public interface MDBMsgFuncI extends CallbackI.I_PP {
 
     String SIGNATURE = "(pp)i";
 
@@ -30,11 +28,8 @@ public interface MDBMsgFuncI extends CallbackI.I {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default int callback(long args) {
-        return invoke(
-            dcbArgPointer(args),
-            dcbArgPointer(args)
-        );
+    default int callback(long msg, long ctx) {
+        return invoke(msg, ctx);
     }
 
     /**
@@ -215,6 +215,24 @@ public class MDBStat extends Struct implements NativeResource {
         return wrap(MDBStat.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code MDBStat} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MDBStat malloc(MemoryArena arena) {
+        return wrap(MDBStat.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code MDBStat} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static MDBStat calloc(MemoryArena arena) {
+        return wrap(MDBStat.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link MDBStat.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -253,6 +271,26 @@ public class MDBStat extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link MDBStat.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MDBStat.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link MDBStat.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static MDBStat.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ms_psize}. */
@@ -325,6 +363,15 @@ public class MDBStat extends Struct implements NativeResource {
         @NativeType("size_t")
         public long ms_entries() { return MDBStat.nms_entries(address()); }
 
+        /** Copies the {@code ms_psize} field of the structs between the current position and limit to the specified array. */
+        public MDBStat.Buffer getMs_psize(int[] dst) { gather(MDBStat.MS_PSIZE, dst); return this; }
+        /** Copies the {@code ms_psize} field of the structs between the current position and limit to the specified buffer. */
+        public MDBStat.Buffer getMs_psize(IntBuffer dst) { gather(MDBStat.MS_PSIZE, dst); return this; }
+        /** Copies the {@code ms_depth} field of the structs between the current position and limit to the specified array. */
+        public MDBStat.Buffer getMs_depth(int[] dst) { gather(MDBStat.MS_DEPTH, dst); return this; }
+        /** Copies the {@code ms_depth} field of the structs between the current position and limit to the specified buffer. */
+        public MDBStat.Buffer getMs_depth(IntBuffer dst) { gather(MDBStat.MS_DEPTH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
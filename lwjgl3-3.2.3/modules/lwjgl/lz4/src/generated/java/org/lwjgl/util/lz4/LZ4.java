@@ -112,6 +112,8 @@ public class LZ4 {
     /** History window size; can be user-defined at compile time. */
     public static final int LZ4_DISTANCE_MAX = 64;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LZ4.class, "LZ4_versionString,LZ4_compress_default,LZ4_decompress_safe,LZ4_compress_fast,LZ4_compress_fast_extState,LZ4_compress_destSize,LZ4_decompress_safe_partial,LZ4_freeStream,LZ4_resetStream_fast,LZ4_loadDict,LZ4_compress_fast_continue,LZ4_saveDict,LZ4_freeStreamDecode,LZ4_setStreamDecode,LZ4_decompress_safe_continue,LZ4_decompress_safe_usingDict,LZ4_compress_fast_extState_fastReset,LZ4_attach_dictionary,LZ4_initStream");
+
     static { LibLZ4.initialize(); }
 
     protected LZ4() {
@@ -131,7 +133,8 @@ public class LZ4 {
     /** Returns the version string. */
     @NativeType("char const *")
     public static String LZ4_versionString() {
-        long __result = nLZ4_versionString();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nLZ4_versionString());
         return memASCII(__result);
     }
 
@@ -158,7 +161,8 @@ public class LZ4 {
      * @return the number of bytes written into buffer {@code dest} (necessarily &le; {@code maxOutputSize}) or 0 if compression fails
      */
     public static int LZ4_compress_default(@NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst) {
-        return nLZ4_compress_default(memAddress(src), memAddress(dst), src.remaining(), dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nLZ4_compress_default(memAddress(src), memAddress(dst), src.remaining(), dst.remaining()));
     }
 
     // --- [ LZ4_decompress_safe ] ---
@@ -187,7 +191,8 @@ public class LZ4 {
      * @return the number of bytes decompressed into destination buffer (necessarily &le; {@code dstCapacity})
      */
     public static int LZ4_decompress_safe(@NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst) {
-        return nLZ4_decompress_safe(memAddress(src), memAddress(dst), src.remaining(), dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nLZ4_decompress_safe(memAddress(src), memAddress(dst), src.remaining(), dst.remaining()));
     }
 
     // --- [ LZ4_COMPRESSBOUND ] ---
@@ -226,7 +231,8 @@ public class LZ4 {
      * replaced by {@code ACCELERATION_DEFAULT} (currently == 1, see lz4.c).</p>
      */
     public static int LZ4_compress_fast(@NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int acceleration) {
-        return nLZ4_compress_fast(memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nLZ4_compress_fast(memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration));
     }
 
     // --- [ LZ4_sizeofState ] ---
@@ -245,7 +251,8 @@ public class LZ4 {
      * it as {@code void* state} to compression function.</p>
      */
     public static int LZ4_compress_fast_extState(@NativeType("void *") ByteBuffer state, @NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int acceleration) {
-        return nLZ4_compress_fast_extState(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nLZ4_compress_fast_extState(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration));
     }
 
     // --- [ LZ4_compress_destSize ] ---
@@ -273,7 +280,8 @@ public class LZ4 {
             check(srcSizePtr, 1);
             check(src, srcSizePtr.get(srcSizePtr.position()));
         }
-        return nLZ4_compress_destSize(memAddress(src), memAddress(dst), memAddress(srcSizePtr), dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nLZ4_compress_destSize(memAddress(src), memAddress(dst), memAddress(srcSizePtr), dst.remaining()));
     }
 
     // --- [ LZ4_decompress_safe_partial ] ---
@@ -298,7 +306,8 @@ public class LZ4 {
      *         <p>Note: can be &lt; {@code targetOutputSize}, if compressed block contains less data.</p>
      */
     public static int LZ4_decompress_safe_partial(@NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int targetOutputSize) {
-        return nLZ4_decompress_safe_partial(memAddress(src), memAddress(dst), src.remaining(), targetOutputSize, dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nLZ4_decompress_safe_partial(memAddress(src), memAddress(dst), src.remaining(), targetOutputSize, dst.remaining()));
     }
 
     // --- [ LZ4_createStream ] ---
@@ -317,7 +326,8 @@ public class LZ4 {
         if (CHECKS) {
             check(streamPtr);
         }
-        return nLZ4_freeStream(streamPtr);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nLZ4_freeStream(streamPtr));
     }
 
     // --- [ LZ4_resetStream_fast ] ---
@@ -345,7 +355,9 @@ public class LZ4 {
         if (CHECKS) {
             check(streamPtr);
         }
+        long __start = FunctionProfiler.start();
         nLZ4_resetStream_fast(streamPtr);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ LZ4_loadDict ] ---
@@ -367,7 +379,8 @@ public class LZ4 {
         if (CHECKS) {
             check(streamPtr);
         }
-        return nLZ4_loadDict(streamPtr, memAddressSafe(dictionary), remainingSafe(dictionary));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nLZ4_loadDict(streamPtr, memAddressSafe(dictionary), remainingSafe(dictionary)));
     }
 
     // --- [ LZ4_compress_fast_continue ] ---
@@ -399,7 +412,8 @@ public class LZ4 {
         if (CHECKS) {
             check(streamPtr);
         }
-        return nLZ4_compress_fast_continue(streamPtr, memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nLZ4_compress_fast_continue(streamPtr, memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration));
     }
 
     // --- [ LZ4_saveDict ] ---
@@ -419,7 +433,8 @@ public class LZ4 {
         if (CHECKS) {
             check(streamPtr);
         }
-        return nLZ4_saveDict(streamPtr, memAddress(safeBuffer), safeBuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nLZ4_saveDict(streamPtr, memAddress(safeBuffer), safeBuffer.remaining()));
     }
 
     // --- [ LZ4_createStreamDecode ] ---
@@ -442,7 +457,8 @@ public class LZ4 {
         if (CHECKS) {
             check(LZ4_stream);
         }
-        return nLZ4_freeStreamDecode(LZ4_stream);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nLZ4_freeStreamDecode(LZ4_stream));
     }
 
     // --- [ LZ4_setStreamDecode ] ---
@@ -464,7 +480,8 @@ public class LZ4 {
         if (CHECKS) {
             check(LZ4_streamDecode);
         }
-        return nLZ4_setStreamDecode(LZ4_streamDecode, memAddress(dictionary), dictionary.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nLZ4_setStreamDecode(LZ4_streamDecode, memAddress(dictionary), dictionary.remaining())) != 0;
     }
 
     // --- [ LZ4_decoderRingBufferSize ] ---
@@ -512,7 +529,8 @@ public class LZ4 {
         if (CHECKS) {
             check(LZ4_streamDecode);
         }
-        return nLZ4_decompress_safe_continue(LZ4_streamDecode, memAddress(src), memAddress(dst), src.remaining(), dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nLZ4_decompress_safe_continue(LZ4_streamDecode, memAddress(src), memAddress(dst), src.remaining(), dst.remaining()));
     }
 
     // --- [ LZ4_decompress_safe_usingDict ] ---
@@ -529,7 +547,8 @@ public class LZ4 {
      * <p>Performance tip: Decompression speed can be substantially increased when {@code dst == dictStart + dictSize}.</p>
      */
     public static int LZ4_decompress_safe_usingDict(@NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, @NativeType("char const *") ByteBuffer dictStart) {
-        return nLZ4_decompress_safe_usingDict(memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), memAddress(dictStart), dictStart.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nLZ4_decompress_safe_usingDict(memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), memAddress(dictStart), dictStart.remaining()));
     }
 
     // --- [ LZ4_compress_fast_extState_fastReset ] ---
@@ -545,7 +564,8 @@ public class LZ4 {
      * initializes the provided state with a call to something like {@link #LZ4_resetStream_fast resetStream_fast} while {@link #LZ4_compress_fast_extState compress_fast_extState} starts with a call to {@link #LZ4_initStream initStream}.</p>
      */
     public static int LZ4_compress_fast_extState_fastReset(@NativeType("void *") ByteBuffer state, @NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int acceleration) {
-        return nLZ4_compress_fast_extState_fastReset(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nLZ4_compress_fast_extState_fastReset(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), acceleration));
     }
 
     // --- [ LZ4_attach_dictionary ] ---
@@ -575,7 +595,9 @@ public class LZ4 {
         if (CHECKS) {
             check(workingStream);
         }
+        long __start = FunctionProfiler.start();
         nLZ4_attach_dictionary(workingStream, dictionaryStream);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ LZ4_initStream ] ---
@@ -598,7 +620,8 @@ public class LZ4 {
      */
     @NativeType("LZ4_stream_t *")
     public static long LZ4_initStream(@NativeType("void *") ByteBuffer buffer) {
-        return nLZ4_initStream(memAddress(buffer), buffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nLZ4_initStream(memAddress(buffer), buffer.remaining()));
     }
 
     // --- [ LZ4_DECOMPRESS_INPLACE_MARGIN ] ---
@@ -214,6 +214,24 @@ public class LZ4FCompressOptions extends Struct implements NativeResource {
         return wrap(LZ4FCompressOptions.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LZ4FCompressOptions} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FCompressOptions malloc(MemoryArena arena) {
+        return wrap(LZ4FCompressOptions.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LZ4FCompressOptions} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FCompressOptions calloc(MemoryArena arena) {
+        return wrap(LZ4FCompressOptions.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LZ4FCompressOptions.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -252,6 +270,26 @@ public class LZ4FCompressOptions extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LZ4FCompressOptions.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FCompressOptions.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LZ4FCompressOptions.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FCompressOptions.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #stableSrc}. */
@@ -330,6 +368,16 @@ public class LZ4FCompressOptions extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public LZ4FCompressOptions.Buffer reserved(int index, @NativeType("unsigned") int value) { LZ4FCompressOptions.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code stableSrc} field of the structs between the current position and limit to the specified array. */
+        public LZ4FCompressOptions.Buffer getStableSrc(int[] dst) { gather(LZ4FCompressOptions.STABLESRC, dst); return this; }
+        /** Copies the {@code stableSrc} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FCompressOptions.Buffer getStableSrc(IntBuffer dst) { gather(LZ4FCompressOptions.STABLESRC, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code stableSrc} field of the structs between the current position and limit. */
+        public LZ4FCompressOptions.Buffer putStableSrc(int[] src) { scatter(LZ4FCompressOptions.STABLESRC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stableSrc} field of the structs between the current position and limit. */
+        public LZ4FCompressOptions.Buffer putStableSrc(IntBuffer src) { scatter(LZ4FCompressOptions.STABLESRC, src); return this; }
+
     }
 
 }
\ No newline at end of file
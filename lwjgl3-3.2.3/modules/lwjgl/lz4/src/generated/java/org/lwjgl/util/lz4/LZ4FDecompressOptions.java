@@ -215,6 +215,24 @@ public class LZ4FDecompressOptions extends Struct implements NativeResource {
         return wrap(LZ4FDecompressOptions.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LZ4FDecompressOptions} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FDecompressOptions malloc(MemoryArena arena) {
+        return wrap(LZ4FDecompressOptions.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LZ4FDecompressOptions} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FDecompressOptions calloc(MemoryArena arena) {
+        return wrap(LZ4FDecompressOptions.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LZ4FDecompressOptions.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -253,6 +271,26 @@ public class LZ4FDecompressOptions extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LZ4FDecompressOptions.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FDecompressOptions.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LZ4FDecompressOptions.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FDecompressOptions.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #stableDst}. */
@@ -331,6 +369,16 @@ public class LZ4FDecompressOptions extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public LZ4FDecompressOptions.Buffer reserved(int index, @NativeType("unsigned") int value) { LZ4FDecompressOptions.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code stableDst} field of the structs between the current position and limit to the specified array. */
+        public LZ4FDecompressOptions.Buffer getStableDst(int[] dst) { gather(LZ4FDecompressOptions.STABLEDST, dst); return this; }
+        /** Copies the {@code stableDst} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FDecompressOptions.Buffer getStableDst(IntBuffer dst) { gather(LZ4FDecompressOptions.STABLEDST, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code stableDst} field of the structs between the current position and limit. */
+        public LZ4FDecompressOptions.Buffer putStableDst(int[] src) { scatter(LZ4FDecompressOptions.STABLEDST, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stableDst} field of the structs between the current position and limit. */
+        public LZ4FDecompressOptions.Buffer putStableDst(IntBuffer src) { scatter(LZ4FDecompressOptions.STABLEDST, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -273,6 +273,24 @@ public class LZ4FFrameInfo extends Struct implements NativeResource {
         return wrap(LZ4FFrameInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LZ4FFrameInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FFrameInfo malloc(MemoryArena arena) {
+        return wrap(LZ4FFrameInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LZ4FFrameInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FFrameInfo calloc(MemoryArena arena) {
+        return wrap(LZ4FFrameInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LZ4FFrameInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -311,6 +329,26 @@ public class LZ4FFrameInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LZ4FFrameInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FFrameInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LZ4FFrameInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FFrameInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #blockSizeID}. */
@@ -418,6 +456,64 @@ public class LZ4FFrameInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code blockChecksumFlag} field. */
         public LZ4FFrameInfo.Buffer blockChecksumFlag(@NativeType("LZ4F_blockChecksum_t") int value) { LZ4FFrameInfo.nblockChecksumFlag(address(), value); return this; }
 
+        /** Copies the {@code blockSizeID} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getBlockSizeID(int[] dst) { gather(LZ4FFrameInfo.BLOCKSIZEID, dst); return this; }
+        /** Copies the {@code blockSizeID} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getBlockSizeID(IntBuffer dst) { gather(LZ4FFrameInfo.BLOCKSIZEID, dst); return this; }
+        /** Copies the {@code blockMode} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getBlockMode(int[] dst) { gather(LZ4FFrameInfo.BLOCKMODE, dst); return this; }
+        /** Copies the {@code blockMode} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getBlockMode(IntBuffer dst) { gather(LZ4FFrameInfo.BLOCKMODE, dst); return this; }
+        /** Copies the {@code contentChecksumFlag} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getContentChecksumFlag(int[] dst) { gather(LZ4FFrameInfo.CONTENTCHECKSUMFLAG, dst); return this; }
+        /** Copies the {@code contentChecksumFlag} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getContentChecksumFlag(IntBuffer dst) { gather(LZ4FFrameInfo.CONTENTCHECKSUMFLAG, dst); return this; }
+        /** Copies the {@code frameType} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getFrameType(int[] dst) { gather(LZ4FFrameInfo.FRAMETYPE, dst); return this; }
+        /** Copies the {@code frameType} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getFrameType(IntBuffer dst) { gather(LZ4FFrameInfo.FRAMETYPE, dst); return this; }
+        /** Copies the {@code contentSize} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getContentSize(long[] dst) { gather(LZ4FFrameInfo.CONTENTSIZE, dst); return this; }
+        /** Copies the {@code contentSize} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getContentSize(LongBuffer dst) { gather(LZ4FFrameInfo.CONTENTSIZE, dst); return this; }
+        /** Copies the {@code dictID} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getDictID(int[] dst) { gather(LZ4FFrameInfo.DICTID, dst); return this; }
+        /** Copies the {@code dictID} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getDictID(IntBuffer dst) { gather(LZ4FFrameInfo.DICTID, dst); return this; }
+        /** Copies the {@code blockChecksumFlag} field of the structs between the current position and limit to the specified array. */
+        public LZ4FFrameInfo.Buffer getBlockChecksumFlag(int[] dst) { gather(LZ4FFrameInfo.BLOCKCHECKSUMFLAG, dst); return this; }
+        /** Copies the {@code blockChecksumFlag} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FFrameInfo.Buffer getBlockChecksumFlag(IntBuffer dst) { gather(LZ4FFrameInfo.BLOCKCHECKSUMFLAG, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code blockSizeID} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putBlockSizeID(int[] src) { scatter(LZ4FFrameInfo.BLOCKSIZEID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockSizeID} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putBlockSizeID(IntBuffer src) { scatter(LZ4FFrameInfo.BLOCKSIZEID, src); return this; }
+        /** Copies the values in the specified array to the {@code blockMode} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putBlockMode(int[] src) { scatter(LZ4FFrameInfo.BLOCKMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockMode} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putBlockMode(IntBuffer src) { scatter(LZ4FFrameInfo.BLOCKMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code contentChecksumFlag} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putContentChecksumFlag(int[] src) { scatter(LZ4FFrameInfo.CONTENTCHECKSUMFLAG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code contentChecksumFlag} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putContentChecksumFlag(IntBuffer src) { scatter(LZ4FFrameInfo.CONTENTCHECKSUMFLAG, src); return this; }
+        /** Copies the values in the specified array to the {@code frameType} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putFrameType(int[] src) { scatter(LZ4FFrameInfo.FRAMETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code frameType} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putFrameType(IntBuffer src) { scatter(LZ4FFrameInfo.FRAMETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code contentSize} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putContentSize(long[] src) { scatter(LZ4FFrameInfo.CONTENTSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code contentSize} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putContentSize(LongBuffer src) { scatter(LZ4FFrameInfo.CONTENTSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code dictID} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putDictID(int[] src) { scatter(LZ4FFrameInfo.DICTID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dictID} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putDictID(IntBuffer src) { scatter(LZ4FFrameInfo.DICTID, src); return this; }
+        /** Copies the values in the specified array to the {@code blockChecksumFlag} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putBlockChecksumFlag(int[] src) { scatter(LZ4FFrameInfo.BLOCKCHECKSUMFLAG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockChecksumFlag} field of the structs between the current position and limit. */
+        public LZ4FFrameInfo.Buffer putBlockChecksumFlag(IntBuffer src) { scatter(LZ4FFrameInfo.BLOCKCHECKSUMFLAG, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -254,6 +254,24 @@ public class LZ4FPreferences extends Struct implements NativeResource {
         return wrap(LZ4FPreferences.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code LZ4FPreferences} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FPreferences malloc(MemoryArena arena) {
+        return wrap(LZ4FPreferences.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code LZ4FPreferences} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static LZ4FPreferences calloc(MemoryArena arena) {
+        return wrap(LZ4FPreferences.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link LZ4FPreferences.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class LZ4FPreferences extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link LZ4FPreferences.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FPreferences.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link LZ4FPreferences.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static LZ4FPreferences.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #frameInfo}. */
@@ -398,6 +436,16 @@ public class LZ4FPreferences extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code reserved} field. */
         public LZ4FPreferences.Buffer reserved(int index, @NativeType("unsigned") int value) { LZ4FPreferences.nreserved(address(), index, value); return this; }
 
+        /** Copies the {@code compressionLevel} field of the structs between the current position and limit to the specified array. */
+        public LZ4FPreferences.Buffer getCompressionLevel(int[] dst) { gather(LZ4FPreferences.COMPRESSIONLEVEL, dst); return this; }
+        /** Copies the {@code compressionLevel} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4FPreferences.Buffer getCompressionLevel(IntBuffer dst) { gather(LZ4FPreferences.COMPRESSIONLEVEL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code compressionLevel} field of the structs between the current position and limit. */
+        public LZ4FPreferences.Buffer putCompressionLevel(int[] src) { scatter(LZ4FPreferences.COMPRESSIONLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compressionLevel} field of the structs between the current position and limit. */
+        public LZ4FPreferences.Buffer putCompressionLevel(IntBuffer src) { scatter(LZ4FPreferences.COMPRESSIONLEVEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
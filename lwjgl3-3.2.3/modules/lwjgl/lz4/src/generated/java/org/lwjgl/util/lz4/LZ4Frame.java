@@ -180,6 +180,8 @@ public class LZ4Frame {
         LZ4F_ERROR_frameDecoding_alreadyStarted = 19,
         LZ4F_ERROR_maxCode                      = 20;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LZ4Frame.class, "LZ4F_isError,LZ4F_getErrorName,LZ4F_compressFrameBound,LZ4F_compressFrame,LZ4F_createCompressionContext,LZ4F_freeCompressionContext,LZ4F_compressBegin,LZ4F_compressBound,LZ4F_compressUpdate,LZ4F_flush,LZ4F_compressEnd,LZ4F_createDecompressionContext,LZ4F_freeDecompressionContext,LZ4F_getFrameInfo,LZ4F_decompress,LZ4F_resetDecompressionContext,LZ4F_createCDict,LZ4F_freeCDict,LZ4F_compressFrame_usingCDict,LZ4F_compressBegin_usingCDict,LZ4F_decompress_usingDict");
+
     static { LibLZ4.initialize(); }
 
     protected LZ4Frame() {
@@ -194,7 +196,8 @@ public class LZ4Frame {
     /** Tells when a function result is an error code. */
     @NativeType("unsigned")
     public static boolean LZ4F_isError(@NativeType("LZ4F_errorCode_t") long code) {
-        return nLZ4F_isError(code) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nLZ4F_isError(code)) != 0;
     }
 
     // --- [ LZ4F_getErrorName ] ---
@@ -206,7 +209,8 @@ public class LZ4Frame {
     @Nullable
     @NativeType("char const *")
     public static String LZ4F_getErrorName(@NativeType("LZ4F_errorCode_t") long code) {
-        long __result = nLZ4F_getErrorName(code);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nLZ4F_getErrorName(code));
         return memASCIISafe(__result);
     }
 
@@ -231,7 +235,8 @@ public class LZ4Frame {
      */
     @NativeType("size_t")
     public static long LZ4F_compressFrameBound(@NativeType("size_t") long srcSize, @Nullable @NativeType("LZ4F_preferences_t const *") LZ4FPreferences preferencesPtr) {
-        return nLZ4F_compressFrameBound(srcSize, memAddressSafe(preferencesPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nLZ4F_compressFrameBound(srcSize, memAddressSafe(preferencesPtr)));
     }
 
     // --- [ LZ4F_compressFrame ] ---
@@ -252,7 +257,8 @@ public class LZ4Frame {
      */
     @NativeType("size_t")
     public static long LZ4F_compressFrame(@NativeType("void *") ByteBuffer dstBuffer, @NativeType("void const *") ByteBuffer srcBuffer, @Nullable @NativeType("LZ4F_preferences_t const *") LZ4FPreferences preferencesPtr) {
-        return nLZ4F_compressFrame(memAddress(dstBuffer), dstBuffer.remaining(), memAddress(srcBuffer), srcBuffer.remaining(), memAddressSafe(preferencesPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nLZ4F_compressFrame(memAddress(dstBuffer), dstBuffer.remaining(), memAddress(srcBuffer), srcBuffer.remaining(), memAddressSafe(preferencesPtr)));
     }
 
     // --- [ LZ4F_getVersion ] ---
@@ -280,7 +286,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctxPtr, 1);
         }
-        return nLZ4F_createCompressionContext(memAddress(cctxPtr), version);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nLZ4F_createCompressionContext(memAddress(cctxPtr), version));
     }
 
     // --- [ LZ4F_freeCompressionContext ] ---
@@ -292,7 +299,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctx);
         }
-        return nLZ4F_freeCompressionContext(cctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nLZ4F_freeCompressionContext(cctx));
     }
 
     // --- [ LZ4F_compressBegin ] ---
@@ -316,7 +324,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctx);
         }
-        return nLZ4F_compressBegin(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddressSafe(prefsPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nLZ4F_compressBegin(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddressSafe(prefsPtr)));
     }
 
     // --- [ LZ4F_compressBound ] ---
@@ -339,7 +348,8 @@ public class LZ4Frame {
      */
     @NativeType("size_t")
     public static long LZ4F_compressBound(@NativeType("size_t") long srcSize, @Nullable @NativeType("LZ4F_preferences_t const *") LZ4FPreferences prefsPtr) {
-        return nLZ4F_compressBound(srcSize, memAddressSafe(prefsPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nLZ4F_compressBound(srcSize, memAddressSafe(prefsPtr)));
     }
 
     // --- [ LZ4F_compressUpdate ] ---
@@ -365,7 +375,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctx);
         }
-        return nLZ4F_compressUpdate(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddress(srcBuffer), srcBuffer.remaining(), memAddressSafe(cOptPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nLZ4F_compressUpdate(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddress(srcBuffer), srcBuffer.remaining(), memAddressSafe(cOptPtr)));
     }
 
     // --- [ LZ4F_flush ] ---
@@ -391,7 +402,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctx);
         }
-        return nLZ4F_flush(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddressSafe(cOptPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nLZ4F_flush(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddressSafe(cOptPtr)));
     }
 
     // --- [ LZ4F_compressEnd ] ---
@@ -414,7 +426,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctx);
         }
-        return nLZ4F_compressEnd(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddressSafe(cOptPtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nLZ4F_compressEnd(cctx, memAddress(dstBuffer), dstBuffer.remaining(), memAddressSafe(cOptPtr)));
     }
 
     // --- [ LZ4F_createDecompressionContext ] ---
@@ -437,7 +450,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(dctxPtr, 1);
         }
-        return nLZ4F_createDecompressionContext(memAddress(dctxPtr), version);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nLZ4F_createDecompressionContext(memAddress(dctxPtr), version));
     }
 
     // --- [ LZ4F_freeDecompressionContext ] ---
@@ -458,7 +472,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(dctx);
         }
-        return nLZ4F_freeDecompressionContext(dctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nLZ4F_freeDecompressionContext(dctx));
     }
 
     // --- [ LZ4F_getFrameInfo ] ---
@@ -499,7 +514,8 @@ public class LZ4Frame {
             check(srcSizePtr, 1);
             check(srcBuffer, srcSizePtr.get(srcSizePtr.position()));
         }
-        return nLZ4F_getFrameInfo(dctx, frameInfoPtr.address(), memAddress(srcBuffer), memAddress(srcSizePtr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nLZ4F_getFrameInfo(dctx, frameInfoPtr.address(), memAddress(srcBuffer), memAddress(srcSizePtr)));
     }
 
     // --- [ LZ4F_decompress ] ---
@@ -545,7 +561,8 @@ public class LZ4Frame {
             check(srcSizePtr, 1);
             check(srcBuffer, srcSizePtr.get(srcSizePtr.position()));
         }
-        return nLZ4F_decompress(dctx, memAddress(dstBuffer), memAddress(dstSizePtr), memAddress(srcBuffer), memAddress(srcSizePtr), dOptPtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nLZ4F_decompress(dctx, memAddress(dstBuffer), memAddress(dstSizePtr), memAddress(srcBuffer), memAddress(srcSizePtr), dOptPtr.address()));
     }
 
     // --- [ LZ4F_resetDecompressionContext ] ---
@@ -564,7 +581,9 @@ public class LZ4Frame {
         if (CHECKS) {
             check(dctx);
         }
+        long __start = FunctionProfiler.start();
         nLZ4F_resetDecompressionContext(dctx);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ LZ4F_getErrorCode ] ---
@@ -587,7 +606,8 @@ public class LZ4Frame {
      */
     @NativeType("LZ4F_CDict *")
     public static long LZ4F_createCDict(@NativeType("void const *") ByteBuffer dictBuffer) {
-        return nLZ4F_createCDict(memAddress(dictBuffer), dictBuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nLZ4F_createCDict(memAddress(dictBuffer), dictBuffer.remaining()));
     }
 
     // --- [ LZ4F_freeCDict ] ---
@@ -598,7 +618,9 @@ public class LZ4Frame {
         if (CHECKS) {
             check(CDict);
         }
+        long __start = FunctionProfiler.start();
         nLZ4F_freeCDict(CDict);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ LZ4F_compressFrame_usingCDict ] ---
@@ -623,7 +645,8 @@ public class LZ4Frame {
         if (CHECKS) {
             check(cctx);
         }
-        return nLZ4F_compressFrame_usingCDict(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), cdict, preferencesPtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nLZ4F_compressFrame_usingCDict(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), cdict, preferencesPtr.address()));
     }
 
     // --- [ LZ4F_compressBegin_usingCDict ] ---
@@ -646,7 +669,8 @@ public class LZ4Frame {
             check(cctx);
             check(cdict);
         }
-        return nLZ4F_compressBegin_usingCDict(cctx, memAddress(dstBuffer), dstBuffer.remaining(), cdict, prefsPtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nLZ4F_compressBegin_usingCDict(cctx, memAddress(dstBuffer), dstBuffer.remaining(), cdict, prefsPtr.address()));
     }
 
     // --- [ LZ4F_decompress_usingDict ] ---
@@ -668,7 +692,8 @@ public class LZ4Frame {
             check(srcSizePtr, 1);
             check(srcBuffer, srcSizePtr.get(srcSizePtr.position()));
         }
-        return nLZ4F_decompress_usingDict(dctxPtr, memAddress(dstBuffer), memAddress(dstSizePtr), memAddress(srcBuffer), memAddress(srcSizePtr), memAddress(dict), dict.remaining(), decompressOptionsPtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nLZ4F_decompress_usingDict(dctxPtr, memAddress(dstBuffer), memAddress(dstSizePtr), memAddress(srcBuffer), memAddress(srcSizePtr), memAddress(dict), dict.remaining(), decompressOptionsPtr.address()));
     }
 
 }
\ No newline at end of file
@@ -71,6 +71,8 @@ public class LZ4HC {
 
     public static final int LZ4_STREAMHCSIZE_SIZET = (LZ4_STREAMHCSIZE / Pointer.POINTER_SIZE);
 
+    private static final int PROFILE_ID = FunctionProfiler.register(LZ4HC.class, "LZ4_compress_HC,LZ4_compress_HC_extStateHC,LZ4_compress_HC_destSize,LZ4_freeStreamHC,LZ4_resetStreamHC_fast,LZ4_loadDictHC,LZ4_compress_HC_continue,LZ4_compress_HC_continue_destSize,LZ4_saveDictHC,LZ4_initStreamHC,LZ4_setCompressionLevel,LZ4_favorDecompressionSpeed,LZ4_compress_HC_extStateHC_fastReset,LZ4_attach_HC_dictionary");
+
     static { LibLZ4.initialize(); }
 
     protected LZ4HC() {
@@ -97,7 +99,8 @@ public class LZ4HC {
      * @return the number of bytes written into {@code dst} or 0 if compression fails
      */
     public static int LZ4_compress_HC(@NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int compressionLevel) {
-        return nLZ4_compress_HC(memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nLZ4_compress_HC(memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), compressionLevel));
     }
 
     // --- [ LZ4_sizeofStateHC ] ---
@@ -116,7 +119,8 @@ public class LZ4HC {
      * properly).</p>
      */
     public static int LZ4_compress_HC_extStateHC(@NativeType("void *") ByteBuffer state, @NativeType("char const *") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int compressionLevel) {
-        return nLZ4_compress_HC_extStateHC(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nLZ4_compress_HC_extStateHC(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), compressionLevel));
     }
 
     // --- [ LZ4_compress_HC_destSize ] ---
@@ -142,7 +146,8 @@ public class LZ4HC {
             check(srcSizePtr, 1);
             check(src, srcSizePtr.get(srcSizePtr.position()));
         }
-        return nLZ4_compress_HC_destSize(memAddress(stateHC), memAddress(src), memAddress(dst), memAddress(srcSizePtr), dst.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nLZ4_compress_HC_destSize(memAddress(stateHC), memAddress(src), memAddress(dst), memAddress(srcSizePtr), dst.remaining(), compressionLevel));
     }
 
     // --- [ LZ4_createStreamHC ] ---
@@ -166,7 +171,8 @@ public class LZ4HC {
         if (CHECKS) {
             check(streamHCPtr);
         }
-        return nLZ4_freeStreamHC(streamHCPtr);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nLZ4_freeStreamHC(streamHCPtr));
     }
 
     // --- [ LZ4_resetStreamHC_fast ] ---
@@ -198,7 +204,9 @@ public class LZ4HC {
         if (CHECKS) {
             check(LZ4_streamHCPtr);
         }
+        long __start = FunctionProfiler.start();
         nLZ4_resetStreamHC_fast(LZ4_streamHCPtr, compressionLevel);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ LZ4_loadDictHC ] ---
@@ -209,7 +217,8 @@ public class LZ4HC {
         if (CHECKS) {
             check(streamHCPtr);
         }
-        return nLZ4_loadDictHC(streamHCPtr, memAddress(dictionary), dictionary.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nLZ4_loadDictHC(streamHCPtr, memAddress(dictionary), dictionary.remaining()));
     }
 
     // --- [ LZ4_compress_HC_continue ] ---
@@ -220,7 +229,8 @@ public class LZ4HC {
         if (CHECKS) {
             check(streamHCPtr);
         }
-        return nLZ4_compress_HC_continue(streamHCPtr, memAddress(src), memAddress(dst), src.remaining(), dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nLZ4_compress_HC_continue(streamHCPtr, memAddress(src), memAddress(dst), src.remaining(), dst.remaining()));
     }
 
     // --- [ LZ4_compress_HC_continue_destSize ] ---
@@ -249,7 +259,8 @@ public class LZ4HC {
             check(srcSizePtr, 1);
             check(src, srcSizePtr.get(srcSizePtr.position()));
         }
-        return nLZ4_compress_HC_continue_destSize(streamHCPtr, memAddress(src), memAddress(dst), memAddress(srcSizePtr), dst.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nLZ4_compress_HC_continue_destSize(streamHCPtr, memAddress(src), memAddress(dst), memAddress(srcSizePtr), dst.remaining()));
     }
 
     // --- [ LZ4_saveDictHC ] ---
@@ -260,7 +271,8 @@ public class LZ4HC {
         if (CHECKS) {
             check(streamHCPtr);
         }
-        return nLZ4_saveDictHC(streamHCPtr, memAddress(safeBuffer), safeBuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nLZ4_saveDictHC(streamHCPtr, memAddress(safeBuffer), safeBuffer.remaining()));
     }
 
     // --- [ LZ4_initStreamHC ] ---
@@ -275,7 +287,8 @@ public class LZ4HC {
      */
     @NativeType("LZ4_streamHC_t *")
     public static long LZ4_initStreamHC(@NativeType("void *") ByteBuffer buffer) {
-        return nLZ4_initStreamHC(memAddress(buffer), buffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nLZ4_initStreamHC(memAddress(buffer), buffer.remaining()));
     }
 
     // --- [ LZ4_setCompressionLevel ] ---
@@ -288,7 +301,9 @@ public class LZ4HC {
         if (CHECKS) {
             check(LZ4_streamHCPtr);
         }
+        long __start = FunctionProfiler.start();
         nLZ4_setCompressionLevel(LZ4_streamHCPtr, compressionLevel);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ LZ4_favorDecompressionSpeed ] ---
@@ -307,7 +322,9 @@ public class LZ4HC {
         if (CHECKS) {
             check(LZ4_streamHCPtr);
         }
+        long __start = FunctionProfiler.start();
         nLZ4_favorDecompressionSpeed(LZ4_streamHCPtr, favor ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ LZ4_compress_HC_extStateHC_fastReset ] ---
@@ -323,7 +340,8 @@ public class LZ4HC {
      * the provided state with a call to {@link #LZ4_resetStreamHC_fast resetStreamHC_fast} while {@link #LZ4_compress_HC_extStateHC compress_HC_extStateHC} starts with a call to {@link #LZ4_initStreamHC initStreamHC}.</p>
      */
     public static int LZ4_compress_HC_extStateHC_fastReset(@NativeType("void *") ByteBuffer state, @NativeType("char * const") ByteBuffer src, @NativeType("char *") ByteBuffer dst, int compressionLevel) {
-        return nLZ4_compress_HC_extStateHC_fastReset(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nLZ4_compress_HC_extStateHC_fastReset(memAddress(state), memAddress(src), memAddress(dst), src.remaining(), dst.remaining(), compressionLevel));
     }
 
     // --- [ LZ4_attach_HC_dictionary ] ---
@@ -353,7 +371,9 @@ public class LZ4HC {
         if (CHECKS) {
             check(working_stream);
         }
+        long __start = FunctionProfiler.start();
         nLZ4_attach_HC_dictionary(working_stream, dictionary_stream);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
 }
\ No newline at end of file
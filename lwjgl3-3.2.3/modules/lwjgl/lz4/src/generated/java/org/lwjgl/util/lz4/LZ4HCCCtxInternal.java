@@ -328,6 +328,31 @@ public class LZ4HCCCtxInternal extends Struct {
         @NativeType("LZ4HC_CCtx_internal * const")
         public LZ4HCCCtxInternal dictCtx() { return LZ4HCCCtxInternal.ndictCtx(address()); }
 
+        /** Copies the {@code dictLimit} field of the structs between the current position and limit to the specified array. */
+        public LZ4HCCCtxInternal.Buffer getDictLimit(int[] dst) { gather(LZ4HCCCtxInternal.DICTLIMIT, dst); return this; }
+        /** Copies the {@code dictLimit} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4HCCCtxInternal.Buffer getDictLimit(IntBuffer dst) { gather(LZ4HCCCtxInternal.DICTLIMIT, dst); return this; }
+        /** Copies the {@code lowLimit} field of the structs between the current position and limit to the specified array. */
+        public LZ4HCCCtxInternal.Buffer getLowLimit(int[] dst) { gather(LZ4HCCCtxInternal.LOWLIMIT, dst); return this; }
+        /** Copies the {@code lowLimit} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4HCCCtxInternal.Buffer getLowLimit(IntBuffer dst) { gather(LZ4HCCCtxInternal.LOWLIMIT, dst); return this; }
+        /** Copies the {@code nextToUpdate} field of the structs between the current position and limit to the specified array. */
+        public LZ4HCCCtxInternal.Buffer getNextToUpdate(int[] dst) { gather(LZ4HCCCtxInternal.NEXTTOUPDATE, dst); return this; }
+        /** Copies the {@code nextToUpdate} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4HCCCtxInternal.Buffer getNextToUpdate(IntBuffer dst) { gather(LZ4HCCCtxInternal.NEXTTOUPDATE, dst); return this; }
+        /** Copies the {@code compressionLevel} field of the structs between the current position and limit to the specified array. */
+        public LZ4HCCCtxInternal.Buffer getCompressionLevel(short[] dst) { gather(LZ4HCCCtxInternal.COMPRESSIONLEVEL, dst); return this; }
+        /** Copies the {@code compressionLevel} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4HCCCtxInternal.Buffer getCompressionLevel(ShortBuffer dst) { gather(LZ4HCCCtxInternal.COMPRESSIONLEVEL, dst); return this; }
+        /** Copies the {@code favorDecSpeed} field of the structs between the current position and limit to the specified array. */
+        public LZ4HCCCtxInternal.Buffer getFavorDecSpeed(byte[] dst) { gather(LZ4HCCCtxInternal.FAVORDECSPEED, dst); return this; }
+        /** Copies the {@code favorDecSpeed} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4HCCCtxInternal.Buffer getFavorDecSpeed(ByteBuffer dst) { gather(LZ4HCCCtxInternal.FAVORDECSPEED, dst); return this; }
+        /** Copies the {@code dirty} field of the structs between the current position and limit to the specified array. */
+        public LZ4HCCCtxInternal.Buffer getDirty(byte[] dst) { gather(LZ4HCCCtxInternal.DIRTY, dst); return this; }
+        /** Copies the {@code dirty} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4HCCCtxInternal.Buffer getDirty(ByteBuffer dst) { gather(LZ4HCCCtxInternal.DIRTY, dst); return this; }
+
     }
 
 }
\ No newline at end of file
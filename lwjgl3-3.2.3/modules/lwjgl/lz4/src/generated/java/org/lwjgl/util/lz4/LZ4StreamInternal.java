@@ -231,6 +231,23 @@ public class LZ4StreamInternal extends Struct {
         @NativeType("uint32_t")
         public int dictSize() { return LZ4StreamInternal.ndictSize(address()); }
 
+        /** Copies the {@code currentOffset} field of the structs between the current position and limit to the specified array. */
+        public LZ4StreamInternal.Buffer getCurrentOffset(int[] dst) { gather(LZ4StreamInternal.CURRENTOFFSET, dst); return this; }
+        /** Copies the {@code currentOffset} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4StreamInternal.Buffer getCurrentOffset(IntBuffer dst) { gather(LZ4StreamInternal.CURRENTOFFSET, dst); return this; }
+        /** Copies the {@code dirty} field of the structs between the current position and limit to the specified array. */
+        public LZ4StreamInternal.Buffer getDirty(short[] dst) { gather(LZ4StreamInternal.DIRTY, dst); return this; }
+        /** Copies the {@code dirty} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4StreamInternal.Buffer getDirty(ShortBuffer dst) { gather(LZ4StreamInternal.DIRTY, dst); return this; }
+        /** Copies the {@code tableType} field of the structs between the current position and limit to the specified array. */
+        public LZ4StreamInternal.Buffer getTableType(short[] dst) { gather(LZ4StreamInternal.TABLETYPE, dst); return this; }
+        /** Copies the {@code tableType} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4StreamInternal.Buffer getTableType(ShortBuffer dst) { gather(LZ4StreamInternal.TABLETYPE, dst); return this; }
+        /** Copies the {@code dictSize} field of the structs between the current position and limit to the specified array. */
+        public LZ4StreamInternal.Buffer getDictSize(int[] dst) { gather(LZ4StreamInternal.DICTSIZE, dst); return this; }
+        /** Copies the {@code dictSize} field of the structs between the current position and limit to the specified buffer. */
+        public LZ4StreamInternal.Buffer getDictSize(IntBuffer dst) { gather(LZ4StreamInternal.DICTSIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+import static org.lwjgl.util.lz4.LZ4HC.*;
+
+/**
+ * A {@link Codec} that produces LZ4 frames.
+ *
+ * <p>One-shot compression uses {@link LZ4Frame#LZ4F_compressFrame LZ4F_compressFrame} and streaming uses {@link LZ4FrameWritableByteChannel}. Both write
+ * frames with a content checksum, so the output of either can be decompressed by the other and by any LZ4 decoder.</p>
+ *
+ * <p>Levels 3 and higher use LZ4HC. Negative levels use the fast LZ4 compressor with an acceleration factor of {@code -level}.</p>
+ */
+public final class LZ4Codec implements Codec {
+
+    /** The codec levels of the portable levels {@link #LEVEL_FASTEST} to {@link #LEVEL_BEST}. */
+    private static final int[] LEVELS = {-8, -2, 0, LZ4HC_CLEVEL_MIN, 6, LZ4HC_CLEVEL_DEFAULT, LZ4HC_CLEVEL_OPT_MIN, 11, LZ4HC_CLEVEL_MAX};
+
+    /** Idle decompression contexts, reused by {@link #decompress}. */
+    private final ConcurrentLinkedQueue<Long> contexts = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String getName() {
+        return "lz4";
+    }
+
+    @Override
+    public int getDefaultLevel() {
+        return 0;
+    }
+
+    @Override
+    public int mapLevel(int level) {
+        if (level < LEVEL_FASTEST || LEVEL_BEST < level) {
+            throw new IllegalArgumentException("Invalid portable level: " + level);
+        }
+        return LEVELS[level - LEVEL_FASTEST];
+    }
+
+    private static LZ4FPreferences initPreferences(LZ4FPreferences prefs, long size, int level) {
+        return prefs
+            .frameInfo(it -> it
+                .contentChecksumFlag(LZ4F_contentChecksumEnabled)
+                .contentSize(size))
+            .compressionLevel(level);
+    }
+
+    @Override
+    public long compressBound(long size) {
+        try (MemoryStack stack = stackPush()) {
+            return LZ4F_compressFrameBound(size, initPreferences(LZ4FPreferences.callocStack(stack), size, 0));
+        }
+    }
+
+    @Override
+    public long compress(ByteBuffer src, ByteBuffer dst, int level) {
+        long size = src.remaining();
+        if (dst.remaining() < compressBound(size)) {
+            throw new BufferOverflowException();
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            LZ4FPreferences prefs = initPreferences(LZ4FPreferences.callocStack(stack), size, level);
+            return checkResult(nLZ4F_compressFrame(memAddress(dst), dst.remaining(), memAddress(src), size, prefs.address()));
+        }
+    }
+
+    @Override
+    public long decompress(ByteBuffer src, ByteBuffer dst) {
+        long dctx = acquireContext();
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer dstSize = stack.mallocPointer(1);
+            PointerBuffer srcSize = stack.mallocPointer(1);
+
+            long dstAddress = memAddress(dst);
+            long srcAddress = memAddress(src);
+
+            long decompressed = 0L;
+            long consumed     = 0L;
+
+            long hint;
+            do {
+                dstSize.put(0, dst.remaining() - decompressed);
+                srcSize.put(0, src.remaining() - consumed);
+
+                hint = nLZ4F_decompress(dctx, dstAddress + decompressed, dstSize.address(), srcAddress + consumed, srcSize.address(), NULL);
+                if (LZ4F_isError(hint)) {
+                    LZ4F_freeDecompressionContext(dctx);
+                    dctx = NULL;
+                    checkResult(hint);
+                }
+
+                if (dstSize.get(0) == 0L && srcSize.get(0) == 0L) {
+                    // No progress: the source is truncated or the destination is full
+                    LZ4F_freeDecompressionContext(dctx);
+                    dctx = NULL;
+                    throw new IllegalStateException("Truncated LZ4 frame or destination buffer too small");
+                }
+
+                decompressed += dstSize.get(0);
+                consumed += srcSize.get(0);
+            } while (hint != 0L);
+
+            return decompressed;
+        } finally {
+            if (dctx != NULL) {
+                contexts.offer(dctx);
+            }
+        }
+    }
+
+    private long acquireContext() {
+        Long dctx = contexts.poll();
+        if (dctx != null) {
+            return dctx;
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            if (LZ4F_isError(LZ4F_createDecompressionContext(pp, LZ4F_VERSION))) {
+                throw new OutOfMemoryError();
+            }
+            return pp.get(0);
+        }
+    }
+
+    private static long checkResult(long code) {
+        if (LZ4F_isError(code)) {
+            throw new IllegalStateException("LZ4F error: " + LZ4F_getErrorName(code));
+        }
+        return code;
+    }
+
+    @Override
+    public WritableByteChannel newCompressingChannel(WritableByteChannel target, int level) {
+        return new LZ4FrameWritableByteChannel(target, level);
+    }
+
+    @Override
+    public ReadableByteChannel newDecompressingChannel(ReadableByteChannel source) {
+        return new LZ4FrameReadableByteChannel(source);
+    }
+
+    /** Frees the pooled decompression contexts. The codec may still be used afterwards. */
+    @Override
+    public void free() {
+        Long dctx;
+        while ((dctx = contexts.poll()) != null) {
+            LZ4F_freeDecompressionContext(dctx);
+        }
+    }
+
+}
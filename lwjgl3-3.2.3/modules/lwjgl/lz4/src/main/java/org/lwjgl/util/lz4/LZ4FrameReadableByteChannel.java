@@ -0,0 +1,179 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+
+/**
+ * A {@link ReadableByteChannel} that reads LZ4 frames from a source channel and decompresses them.
+ *
+ * <p>Data are decompressed directly into direct buffers, without intermediate copies. Heap buffers are filled from a staging buffer. Streams that consist of
+ * multiple concatenated frames are decompressed as a single stream. Skippable frames, such as the seek table written by {@link LZ4ParallelCompressor}, are
+ * ignored.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class LZ4FrameReadableByteChannel implements ReadableByteChannel {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel source;
+
+    private long dctx;
+
+    /** The compressed data read from the source. The bytes between the position and the limit have not been decompressed yet. */
+    private final ByteBuffer input;
+
+    /** The {@code dstSize} and {@code srcSize} arguments of {@code LZ4F_decompress}. */
+    private final PointerBuffer sizes;
+
+    @Nullable
+    private ByteBuffer staging;
+
+    /** The last value returned by {@code LZ4F_decompress}, 0 if a frame has been fully decoded. */
+    private long hint;
+
+    /** True if the last decompression filled the output buffer, in which case the context may still hold decoded data. */
+    private boolean pending;
+
+    private boolean eof;
+
+    /**
+     * Creates a new channel.
+     *
+     * @param source the channel to read the compressed frames from
+     */
+    public LZ4FrameReadableByteChannel(ReadableByteChannel source) {
+        this.source = source;
+
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            if (LZ4F_isError(LZ4F_createDecompressionContext(pp, LZ4F_VERSION))) {
+                throw new OutOfMemoryError();
+            }
+            dctx = pp.get(0);
+        }
+
+        input = memAlloc(BUFFER_SIZE);
+        input.limit(0);
+        sizes = memAllocPointer(2);
+    }
+
+    private static long check(long code) throws IOException {
+        if (LZ4F_isError(code)) {
+            throw new IOException("LZ4F error: " + LZ4F_getErrorName(code));
+        }
+        return code;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return dctx != NULL;
+    }
+
+    /**
+     * Decompresses up to {@code dst.remaining()} bytes into {@code dst}.
+     *
+     * @return the number of bytes decompressed, possibly zero if the source channel is in non-blocking mode, or -1 if the end of the stream has been reached
+     *
+     * @throws IOException if the compressed stream is corrupted or truncated
+     */
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (dctx == NULL) {
+            throw new ClosedChannelException();
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+
+        if (dst.isDirect()) {
+            int size = decompress(memAddress(dst), dst.remaining());
+            if (0 < size) {
+                dst.position(dst.position() + size);
+            }
+            return size;
+        }
+
+        ByteBuffer staging = this.staging;
+        if (staging == null) {
+            staging = this.staging = memAlloc(BUFFER_SIZE);
+        }
+
+        int size = decompress(memAddress0(staging), Math.min(dst.remaining(), staging.capacity()));
+        if (0 < size) {
+            staging.clear();
+            staging.limit(size);
+            dst.put(staging);
+        }
+        return size;
+    }
+
+    private int decompress(long address, int size) throws IOException {
+        if (eof) {
+            return -1;
+        }
+
+        long decompressed;
+        do {
+            if (!input.hasRemaining() && !pending) {
+                input.clear();
+                int bytes = source.read(input);
+                input.flip();
+                if (bytes == -1) {
+                    if (hint != 0L) {
+                        throw new IOException("Truncated LZ4 stream");
+                    }
+                    eof = true;
+                    return -1;
+                }
+                if (bytes == 0) {
+                    return 0;
+                }
+            }
+
+            sizes.put(0, size);
+            sizes.put(1, input.remaining());
+            hint = check(nLZ4F_decompress(dctx, address, sizes.address(), memAddress(input), sizes.address() + POINTER_SIZE, NULL));
+
+            decompressed = sizes.get(0);
+            input.position(input.position() + (int)sizes.get(1));
+
+            pending = decompressed == size;
+        } while (decompressed == 0L);
+
+        return (int)decompressed;
+    }
+
+    /** Closes this channel and the source channel. */
+    @Override
+    public void close() throws IOException {
+        if (dctx == NULL) {
+            return;
+        }
+
+        try {
+            LZ4F_freeDecompressionContext(dctx);
+            dctx = NULL;
+
+            memFree(sizes);
+            memFree(input);
+            memFree(staging);
+        } finally {
+            source.close();
+        }
+    }
+
+}
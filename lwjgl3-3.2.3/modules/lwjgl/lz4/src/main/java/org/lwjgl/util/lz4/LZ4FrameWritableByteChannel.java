@@ -0,0 +1,187 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+
+/**
+ * A {@link WritableByteChannel} that compresses the bytes written to it and writes an LZ4 frame to a target channel.
+ *
+ * <p>Direct buffers are compressed in place, without intermediate copies. Heap buffers are copied to a staging buffer first. The frame includes a content
+ * checksum and can be decompressed by any LZ4 decoder, such as {@link LZ4FrameReadableByteChannel}.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class LZ4FrameWritableByteChannel implements WritableByteChannel {
+
+    /** The maximum number of bytes passed to {@code LZ4F_compressUpdate} at once. */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final WritableByteChannel target;
+
+    private final LZ4FPreferences prefs;
+
+    private long cctx;
+
+    private final ByteBuffer output;
+
+    @Nullable
+    private ByteBuffer staging;
+
+    private boolean started;
+
+    /**
+     * Creates a new channel with the default (fast) compression level.
+     *
+     * @param target the channel to write the compressed frame to
+     */
+    public LZ4FrameWritableByteChannel(WritableByteChannel target) {
+        this(target, 0);
+    }
+
+    /**
+     * Creates a new channel.
+     *
+     * @param target the channel to write the compressed frame to
+     * @param level  the compression level. Levels 3 and higher use LZ4HC. Negative levels use the fast LZ4 compressor with an acceleration factor of
+     *               {@code -level}.
+     */
+    public LZ4FrameWritableByteChannel(WritableByteChannel target, int level) {
+        this.target = target;
+
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            if (LZ4F_isError(LZ4F_createCompressionContext(pp, LZ4F_VERSION))) {
+                throw new OutOfMemoryError();
+            }
+            cctx = pp.get(0);
+        }
+
+        prefs = LZ4FPreferences.calloc();
+        prefs
+            .frameInfo(it -> it.contentChecksumFlag(LZ4F_contentChecksumEnabled))
+            .compressionLevel(level);
+
+        output = memAlloc((int)Math.max(LZ4F_HEADER_SIZE_MAX, LZ4F_compressBound(CHUNK_SIZE, prefs)));
+    }
+
+    private static long check(long code) throws IOException {
+        if (LZ4F_isError(code)) {
+            throw new IOException("LZ4F error: " + LZ4F_getErrorName(code));
+        }
+        return code;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return cctx != NULL;
+    }
+
+    /** Throws if the channel is closed and writes the frame header before the first block. */
+    private void ensureStarted() throws IOException {
+        if (cctx == NULL) {
+            throw new ClosedChannelException();
+        }
+        if (!started) {
+            writeOutput(check(nLZ4F_compressBegin(cctx, memAddress0(output), output.capacity(), prefs.address())));
+            started = true;
+        }
+    }
+
+    /**
+     * Compresses the remaining bytes of {@code src}.
+     *
+     * <p>All remaining bytes are consumed. Compressed data may be buffered internally until the channel is flushed or closed.</p>
+     *
+     * @return the number of bytes consumed
+     */
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        ensureStarted();
+
+        int size = src.remaining();
+        if (src.isDirect()) {
+            long address = memAddress(src);
+            for (int offset = 0; offset < size; offset += CHUNK_SIZE) {
+                compress(address + offset, Math.min(CHUNK_SIZE, size - offset));
+            }
+            src.position(src.position() + size);
+        } else {
+            ByteBuffer staging = this.staging;
+            if (staging == null) {
+                staging = this.staging = memAlloc(CHUNK_SIZE);
+            }
+
+            while (src.hasRemaining()) {
+                int length = Math.min(src.remaining(), staging.capacity());
+
+                int limit = src.limit();
+                src.limit(src.position() + length);
+                staging.clear();
+                staging.put(src);
+                src.limit(limit);
+
+                compress(memAddress0(staging), length);
+            }
+        }
+
+        return size;
+    }
+
+    private void compress(long address, int size) throws IOException {
+        writeOutput(check(nLZ4F_compressUpdate(cctx, memAddress0(output), output.capacity(), address, size, NULL)));
+    }
+
+    /**
+     * Flushes the data buffered in the compression context to the target channel.
+     *
+     * <p>The data written so far can be decompressed after this method returns. Flushing frequently reduces the compression ratio.</p>
+     */
+    public void flush() throws IOException {
+        ensureStarted();
+        writeOutput(check(nLZ4F_flush(cctx, memAddress0(output), output.capacity(), NULL)));
+    }
+
+    private void writeOutput(long size) throws IOException {
+        output.clear();
+        output.limit((int)size);
+        while (output.hasRemaining()) {
+            target.write(output);
+        }
+    }
+
+    /** Ends the frame, flushes it to the target channel and closes the target channel. */
+    @Override
+    public void close() throws IOException {
+        if (cctx == NULL) {
+            return;
+        }
+
+        try {
+            ensureStarted();
+            writeOutput(check(nLZ4F_compressEnd(cctx, memAddress0(output), output.capacity(), NULL)));
+        } finally {
+            LZ4F_freeCompressionContext(cctx);
+            cctx = NULL;
+
+            prefs.free();
+            memFree(output);
+            memFree(staging);
+
+            target.close();
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import javax.annotation.*;
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4.*;
+import static org.lwjgl.util.lz4.LZ4MessageEncoder.*;
+
+/**
+ * Decompresses a stream of messages encoded by {@link LZ4MessageEncoder}.
+ *
+ * <p>The decoder mirrors the ring buffer of the encoder, so it must be created with the same maximum message size and must decode every message, in
+ * order. Messages may be split across reads; an incomplete message is left in the source buffer until more data is available.</p>
+ *
+ * <p>If a corrupted message is detected, the decoder must be {@link #reset reset} before it can be used again. This class is not thread-safe.</p>
+ */
+public final class LZ4MessageDecoder implements AutoCloseable {
+
+    /** Returned by {@link #decodeNext} if the source does not contain a complete message. */
+    private static final int INCOMPLETE = -1;
+    /** Returned by {@link #decodeNext} if the destination does not have enough space for the next message. */
+    private static final int OVERFLOW   = -2;
+
+    private final int maxMessageSize;
+
+    private final long stream;
+
+    /** The history, followed by enough space for one message. */
+    private final ByteBuffer ring;
+
+    /** The offset of the next message in {@link #ring}. */
+    private int offset;
+
+    /** The last value read by {@link #readVarint}. */
+    private int varint;
+
+    /**
+     * Creates a new decoder.
+     *
+     * @param maxMessageSize the maximum size of a message, in bytes. Must be equal to the maximum message size of the encoder and must not exceed {@link LZ4MessageEncoder#DICTIONARY_SIZE}.
+     */
+    public LZ4MessageDecoder(int maxMessageSize) {
+        if (maxMessageSize <= 0 || DICTIONARY_SIZE < maxMessageSize) {
+            throw new IllegalArgumentException("Invalid maximum message size: " + maxMessageSize);
+        }
+
+        this.maxMessageSize = maxMessageSize;
+
+        stream = LZ4_createStreamDecode();
+        if (stream == NULL) {
+            throw new OutOfMemoryError();
+        }
+        ring = memAlloc(getRingSize(maxMessageSize));
+
+        reset(null);
+    }
+
+    /** Returns the maximum size of a message, in bytes. */
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /**
+     * Discards the history. The next message is decompressed against the specified dictionary, or independently if it is {@code null}.
+     *
+     * @param dictionary the dictionary that the encoder was reset with
+     */
+    public void reset(@Nullable ByteBuffer dictionary) {
+        int size = loadDictionary(ring, dictionary);
+        nLZ4_setStreamDecode(stream, memAddress0(ring), size);
+        offset = advance(0, size);
+    }
+
+    /**
+     * Decodes one message.
+     *
+     * @param src a direct buffer that contains the encoded message. Its position is advanced past the message.
+     * @param dst a direct buffer. Its position is advanced by the size of the message.
+     *
+     * @return the size of the message
+     *
+     * @throws BufferUnderflowException if {@code src} does not contain a complete message. Neither buffer is modified.
+     * @throws BufferOverflowException  if {@code dst} does not have enough space for the message. Neither buffer is modified.
+     * @throws IllegalStateException    if the message is corrupted
+     */
+    public int decode(ByteBuffer src, ByteBuffer dst) {
+        int size = decodeNext(src, dst);
+        if (size == INCOMPLETE) {
+            throw new BufferUnderflowException();
+        }
+        if (size == OVERFLOW) {
+            throw new BufferOverflowException();
+        }
+        return size;
+    }
+
+    /**
+     * Decodes a batch of messages, in order, until {@code src} does not contain a complete message, {@code dst} does not have enough space for the next
+     * message or {@code sizes} is full.
+     *
+     * <p>The messages are written to {@code dst} back-to-back and the size of each message is written to {@code sizes}.</p>
+     *
+     * @param src   a direct buffer that contains the encoded messages. Its position is advanced past the decoded messages.
+     * @param dst   a direct buffer. Its position is advanced by the total size of the decoded messages.
+     * @param sizes receives the size of each decoded message
+     *
+     * @return the number of messages decoded
+     *
+     * @throws IllegalStateException if a message is corrupted
+     */
+    public int decode(ByteBuffer src, ByteBuffer dst, IntBuffer sizes) {
+        int count = 0;
+        while (sizes.hasRemaining()) {
+            int size = decodeNext(src, dst);
+            if (size < 0) {
+                break;
+            }
+            sizes.put(size);
+            count++;
+        }
+        return count;
+    }
+
+    private int decodeNext(ByteBuffer src, ByteBuffer dst) {
+        int position = readVarint(src, src.position());
+        if (position == INCOMPLETE) {
+            return INCOMPLETE;
+        }
+        int size = varint;
+
+        position = readVarint(src, position);
+        if (position == INCOMPLETE) {
+            return INCOMPLETE;
+        }
+        int compressedSize = varint;
+
+        if (maxMessageSize < size || (size == 0) != (compressedSize == 0)) {
+            throw corrupted();
+        }
+        if (src.limit() - position < compressedSize) {
+            return INCOMPLETE;
+        }
+        if (dst.remaining() < size) {
+            return OVERFLOW;
+        }
+
+        if (size != 0) {
+            long output = memAddress0(ring) + offset;
+            if (nLZ4_decompress_safe_continue(stream, memAddress0(src) + position, output, compressedSize, size) != size) {
+                throw corrupted();
+            }
+            memCopy(output, memAddress(dst), size);
+
+            offset = advance(offset, size);
+        }
+
+        src.position(position + compressedSize);
+        dst.position(dst.position() + size);
+        return size;
+    }
+
+    /**
+     * Reads an unsigned LEB128 value into {@link #varint}.
+     *
+     * @return the position after the value, or {@link #INCOMPLETE} if {@code src} ends before the value
+     */
+    private int readVarint(ByteBuffer src, int position) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (src.limit() <= position) {
+                return INCOMPLETE;
+            }
+            if (28 < shift) {
+                throw corrupted();
+            }
+
+            int b = src.get(position++);
+            value |= (b & 0x7F) << shift;
+            if (0 <= b) {
+                break;
+            }
+        }
+        if (value < 0) {
+            throw corrupted();
+        }
+
+        varint = value;
+        return position;
+    }
+
+    private static IllegalStateException corrupted() {
+        return new IllegalStateException("Corrupted LZ4 message. The decoder must be reset.");
+    }
+
+    /** Frees the stream state and the history. */
+    @Override
+    public void close() {
+        memFree(ring);
+        LZ4_freeStreamDecode(stream);
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import javax.annotation.*;
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4.*;
+import static org.lwjgl.util.lz4.LZ4HC.*;
+
+/**
+ * Compresses a stream of messages, each against the history of the messages before it.
+ *
+ * <p>Small messages, such as RPC requests, rarely compress well on their own. This encoder keeps up to {@link #DICTIONARY_SIZE} bytes of previous messages
+ * in an off-heap ring buffer and compresses each message with {@link LZ4#LZ4_compress_fast_continue LZ4_compress_fast_continue} or
+ * {@link LZ4HC#LZ4_compress_HC_continue LZ4_compress_HC_continue}, so that repeated content is encoded as references to earlier messages.</p>
+ *
+ * <p>Each encoded message consists of its decompressed size and compressed size, as variable-length integers, followed by an LZ4 block. Messages must be
+ * decoded in the same order by an {@link LZ4MessageDecoder} with the same maximum message size. Both sides may be {@link #reset reset} at any message
+ * boundary, optionally with a dictionary that is shared out-of-band.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public final class LZ4MessageEncoder implements AutoCloseable {
+
+    /** The maximum size of the history that messages are compressed against. */
+    public static final int DICTIONARY_SIZE = 64 * 1024;
+
+    private final int maxMessageSize;
+
+    private final int level;
+
+    private final long stream;
+
+    /** The history, followed by enough space for one message. */
+    private final ByteBuffer ring;
+
+    /** The offset of the next message in {@link #ring}. */
+    private int offset;
+
+    /**
+     * Creates a new encoder that uses the fast LZ4 compressor.
+     *
+     * @param maxMessageSize the maximum size of a message, in bytes. Must not exceed {@link #DICTIONARY_SIZE}.
+     */
+    public LZ4MessageEncoder(int maxMessageSize) {
+        this(maxMessageSize, 0);
+    }
+
+    /**
+     * Creates a new encoder.
+     *
+     * @param maxMessageSize the maximum size of a message, in bytes. Must not exceed {@link #DICTIONARY_SIZE}.
+     * @param level          the compression level. Levels 3 and higher use LZ4HC. Negative levels use the fast LZ4 compressor with an acceleration factor
+     *                       of {@code -level}.
+     */
+    public LZ4MessageEncoder(int maxMessageSize, int level) {
+        if (maxMessageSize <= 0 || DICTIONARY_SIZE < maxMessageSize) {
+            throw new IllegalArgumentException("Invalid maximum message size: " + maxMessageSize);
+        }
+
+        this.maxMessageSize = maxMessageSize;
+        this.level = Math.min(level, LZ4HC_CLEVEL_MAX);
+
+        stream = isHC() ? LZ4_createStreamHC() : LZ4_createStream();
+        if (stream == NULL) {
+            throw new OutOfMemoryError();
+        }
+        ring = memAlloc(getRingSize(maxMessageSize));
+
+        reset(null);
+    }
+
+    private boolean isHC() {
+        return LZ4HC_CLEVEL_MIN <= level;
+    }
+
+    /** Returns the maximum size of a message, in bytes. */
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    /** Returns the compression level. */
+    public int getLevel() {
+        return level;
+    }
+
+    /** Returns the maximum size of an encoded message, including its header. */
+    public static int getMaxEncodedSize(int messageSize) {
+        int bound = LZ4_COMPRESSBOUND(messageSize);
+        return getVarintSize(messageSize) + getVarintSize(bound) + bound;
+    }
+
+    /**
+     * Discards the history. The next message is compressed against the specified dictionary, or independently if it is {@code null}.
+     *
+     * <p>The decoder must be reset with the same dictionary, after decoding all messages encoded before this call.</p>
+     *
+     * @param dictionary the dictionary. Only its last {@link #DICTIONARY_SIZE} bytes are used.
+     */
+    public void reset(@Nullable ByteBuffer dictionary) {
+        int size = loadDictionary(ring, dictionary);
+        if (isHC()) {
+            LZ4_resetStreamHC_fast(stream, level);
+            if (size != 0) {
+                nLZ4_loadDictHC(stream, memAddress0(ring), size);
+            }
+        } else {
+            LZ4_resetStream_fast(stream);
+            if (size != 0) {
+                nLZ4_loadDict(stream, memAddress0(ring), size);
+            }
+        }
+        offset = advance(0, size);
+    }
+
+    /**
+     * Encodes one message.
+     *
+     * @param message a direct buffer that contains the message. Its position is not modified.
+     * @param dst     a direct buffer with at least {@link #getMaxEncodedSize getMaxEncodedSize}{@code (message.remaining())} bytes remaining. Its position is
+     *                advanced by the size of the encoded message.
+     *
+     * @return the size of the encoded message
+     *
+     * @throws BufferOverflowException if {@code dst} does not have enough space remaining. The encoder state is not modified.
+     */
+    public int encode(ByteBuffer message, ByteBuffer dst) {
+        int size = checkMessageSize(message);
+        if (dst.remaining() < getMaxEncodedSize(size)) {
+            throw new BufferOverflowException();
+        }
+
+        int written = nencode(memAddress(message), size, memAddress(dst));
+        dst.position(dst.position() + written);
+        return written;
+    }
+
+    /**
+     * Encodes a batch of messages, in order, until {@code dst} does not have enough space for the next message.
+     *
+     * <p>Use this method to append as many pending messages as possible to one network packet or write buffer.</p>
+     *
+     * @param messages direct buffers that contain the messages. Their positions are not modified.
+     * @param dst      a direct buffer. Its position is advanced by the total size of the encoded messages.
+     *
+     * @return the number of messages encoded
+     */
+    public int encode(ByteBuffer[] messages, ByteBuffer dst) {
+        for (ByteBuffer message : messages) {
+            checkMessageSize(message);
+        }
+
+        long address   = memAddress(dst);
+        int  remaining = dst.remaining();
+
+        int written = 0;
+        int count   = 0;
+        for (; count < messages.length; count++) {
+            ByteBuffer message = messages[count];
+
+            int size = message.remaining();
+            if (remaining - written < getMaxEncodedSize(size)) {
+                break;
+            }
+            written += nencode(memAddress(message), size, address + written);
+        }
+
+        dst.position(dst.position() + written);
+        return count;
+    }
+
+    private int checkMessageSize(ByteBuffer message) {
+        int size = message.remaining();
+        if (maxMessageSize < size) {
+            throw new IllegalArgumentException("The message is too large: " + size);
+        }
+        return size;
+    }
+
+    private int nencode(long message, int size, long dst) {
+        if (size == 0) {
+            writeVarint(dst, 0, 1);
+            writeVarint(dst + 1, 0, 1);
+            return 2;
+        }
+
+        // The decoder needs the history at the same position, so the message is compressed from the ring buffer
+        long input = memAddress0(ring) + offset;
+        memCopy(message, input, size);
+
+        int bound = LZ4_COMPRESSBOUND(size);
+
+        // The compressed size is written after compression, padded to the width of the bound
+        int  headerSize = getVarintSize(size) + getVarintSize(bound);
+        long block      = dst + headerSize;
+
+        int compressedSize = isHC()
+            ? nLZ4_compress_HC_continue(stream, input, block, size, bound)
+            : nLZ4_compress_fast_continue(stream, input, block, size, bound, level < 0 ? -level : 1);
+        if (compressedSize <= 0) {
+            throw new IllegalStateException("LZ4 stream compression failed. The encoder must be reset.");
+        }
+
+        writeVarint(dst, size, getVarintSize(size));
+        writeVarint(dst + getVarintSize(size), compressedSize, getVarintSize(bound));
+
+        offset = advance(offset, size);
+        return headerSize + compressedSize;
+    }
+
+    /** Frees the stream state and the history. */
+    @Override
+    public void close() {
+        memFree(ring);
+        if (isHC()) {
+            LZ4_freeStreamHC(stream);
+        } else {
+            LZ4_freeStream(stream);
+        }
+    }
+
+    // Shared with LZ4MessageDecoder. Both sides must use the same ring buffer size and wrap-around rule.
+
+    static int getRingSize(int maxMessageSize) {
+        return DICTIONARY_SIZE + maxMessageSize;
+    }
+
+    /**
+     * Returns the offset of the message after a message of the specified size. Wraps around to the start of the ring buffer once more than a full history
+     * is available before the current offset, which leaves enough space for the largest message.
+     *
+     * <p>A message written after a wrap-around must end strictly before the end of the history, otherwise LZ4 does not trim the overlapping part of the
+     * history and the output is corrupted. This holds because messages are not larger than {@link #DICTIONARY_SIZE}.</p>
+     */
+    static int advance(int offset, int size) {
+        offset += size;
+        return DICTIONARY_SIZE < offset ? 0 : offset;
+    }
+
+    static int loadDictionary(ByteBuffer ring, @Nullable ByteBuffer dictionary) {
+        if (dictionary == null) {
+            return 0;
+        }
+
+        int size = Math.min(dictionary.remaining(), DICTIONARY_SIZE);
+        memCopy(memAddress(dictionary) + (dictionary.remaining() - size), memAddress0(ring), size);
+        return size;
+    }
+
+    static int getVarintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    /** Writes an unsigned LEB128 value, padded with continuation bytes to the specified width. */
+    private static void writeVarint(long address, int value, int width) {
+        for (int i = 0; i < width - 1; i++) {
+            memPutByte(address + i, (byte)(value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        memPutByte(address + width - 1, (byte)value);
+    }
+
+}
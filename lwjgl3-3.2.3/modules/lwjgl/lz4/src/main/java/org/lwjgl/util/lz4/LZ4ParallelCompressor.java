@@ -0,0 +1,341 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+
+/**
+ * Compresses large inputs into a seekable LZ4 frame, using multiple threads.
+ *
+ * <p>The input is split into blocks of the frame's maximum block size. Blocks are compressed independently on a {@link ForkJoinPool}, each worker thread
+ * with its own {@code LZ4F_cctx}, and written in order. The output consists of:</p>
+ *
+ * <ol>
+ * <li>a standard LZ4 frame with independent blocks. Any LZ4 decoder can decompress it, such as {@link LZ4Frame#LZ4F_decompress LZ4F_decompress} or the
+ * {@code lz4} command line tool.</li>
+ * <li>a skippable frame that contains the seek table: the compressed and decompressed size of each block. Standard decoders ignore it.
+ * {@link LZ4SeekableReader} uses it to decompress arbitrary byte ranges, touching only the blocks that cover each range.</li>
+ * </ol>
+ *
+ * <p>The frame does not include a content checksum, because it cannot be computed in parallel. Block checksums are supported.</p>
+ *
+ * <p>An instance may be reused for any number of inputs, but not concurrently.</p>
+ */
+public final class LZ4ParallelCompressor implements AutoCloseable {
+
+    /** The magic number of the skippable frame that contains the seek table. */
+    static final int SKIPPABLE_MAGIC = 0x184D2A5E;
+
+    /** The magic number at the end of the seek table. */
+    static final int SEEK_TABLE_MAGIC = 0x8F4C5A34;
+
+    /** The seek table footer: the number of blocks, the block size and {@link #SEEK_TABLE_MAGIC}. */
+    static final int SEEK_TABLE_FOOTER_SIZE = 3 * 4;
+
+    /** The size of a seek table entry: the compressed and decompressed size of a block. */
+    static final int SEEK_TABLE_ENTRY_SIZE = 2 * 4;
+
+    static final int END_MARK_SIZE = 4;
+
+    private final ForkJoinPool pool;
+
+    private final int blockSize;
+
+    private final LZ4FPreferences prefs;
+
+    /** Idle compression contexts. At most one context per worker thread is ever created. */
+    private final ConcurrentLinkedQueue<Long> contexts = new ConcurrentLinkedQueue<>();
+
+    /** The frame header, identical for every block. */
+    private final ByteBuffer header;
+
+    /** The maximum output of compressing one block as a complete frame. */
+    private final int blockBound;
+
+    private boolean closed;
+
+    /**
+     * Creates a new compressor that uses {@link ForkJoinPool#commonPool}.
+     *
+     * @param blockSizeID the block size. One of:<br><table><tr><td>{@link LZ4Frame#LZ4F_max64KB max64KB}</td><td>{@link LZ4Frame#LZ4F_max256KB max256KB}</td><td>{@link LZ4Frame#LZ4F_max1MB max1MB}</td><td>{@link LZ4Frame#LZ4F_max4MB max4MB}</td></tr></table>
+     * @param level       the compression level. Levels 3 and higher use LZ4HC.
+     */
+    public LZ4ParallelCompressor(int blockSizeID, int level) {
+        this(blockSizeID, level, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new compressor.
+     *
+     * @param blockSizeID   the block size. One of:<br><table><tr><td>{@link LZ4Frame#LZ4F_max64KB max64KB}</td><td>{@link LZ4Frame#LZ4F_max256KB max256KB}</td><td>{@link LZ4Frame#LZ4F_max1MB max1MB}</td><td>{@link LZ4Frame#LZ4F_max4MB max4MB}</td></tr></table>
+     * @param level         the compression level. Levels 3 and higher use LZ4HC.
+     * @param blockChecksum if true, a checksum is appended to each block
+     * @param pool          the pool to compress blocks on
+     */
+    public LZ4ParallelCompressor(int blockSizeID, int level, boolean blockChecksum, ForkJoinPool pool) {
+        if (blockSizeID < LZ4F_max64KB || LZ4F_max4MB < blockSizeID) {
+            throw new IllegalArgumentException("Invalid block size ID: " + blockSizeID);
+        }
+
+        this.pool = pool;
+        this.blockSize = 1 << (8 + 2 * blockSizeID);
+
+        prefs = LZ4FPreferences.calloc();
+        prefs
+            .frameInfo(it -> it
+                .blockSizeID(blockSizeID)
+                .blockMode(LZ4F_blockIndependent)
+                .blockChecksumFlag(blockChecksum ? LZ4F_blockChecksumEnabled : LZ4F_noBlockChecksum))
+            .compressionLevel(level)
+            .autoFlush(true);
+
+        blockBound = (int)(LZ4F_HEADER_SIZE_MAX + LZ4F_compressBound(blockSize, prefs));
+
+        long cctx = acquireContext();
+        try {
+            ByteBuffer buffer = memAlloc(LZ4F_HEADER_SIZE_MAX + END_MARK_SIZE + LZ4F_BLOCK_CHECKSUM_SIZE);
+            try {
+                int size = (int)check(LZ4F_compressBegin(cctx, buffer, prefs));
+                // Leave the context in a clean state
+                check(nLZ4F_compressEnd(cctx, memAddress(buffer) + size, buffer.remaining() - size, NULL));
+
+                header = memAlloc(size);
+                memCopy(memAddress(buffer), memAddress(header), size);
+            } finally {
+                memFree(buffer);
+            }
+        } finally {
+            releaseContext(cctx);
+        }
+    }
+
+    /** Returns the block size, in bytes. */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private static long check(long code) {
+        if (LZ4F_isError(code)) {
+            throw new IllegalStateException("LZ4F error: " + LZ4F_getErrorName(code));
+        }
+        return code;
+    }
+
+    private long acquireContext() {
+        Long cctx = contexts.poll();
+        if (cctx != null) {
+            return cctx;
+        }
+
+        try (MemoryStack stack = stackPush()) {
+            PointerBuffer pp = stack.mallocPointer(1);
+            check(LZ4F_createCompressionContext(pp, LZ4F_VERSION));
+            return pp.get(0);
+        }
+    }
+
+    private void releaseContext(long cctx) {
+        contexts.offer(cctx);
+    }
+
+    /**
+     * Compresses the file at the specified path.
+     *
+     * <p>The file is memory-mapped, so files larger than 2GB are supported.</p>
+     *
+     * @param src the file to compress
+     * @param dst the channel to write the seekable frame to
+     *
+     * @return the number of bytes written to {@code dst}
+     */
+    public long compress(Path src, WritableByteChannel dst) throws IOException {
+        if (Files.size(src) == 0L) {
+            return ncompress(NULL, 0L, dst);
+        }
+
+        try (MemoryMappedFile file = MemoryMappedFile.map(src, FileChannel.MapMode.READ_ONLY)) {
+            file.advise(MemoryMappedFile.Advice.SEQUENTIAL);
+            return ncompress(file.address(), file.size(), dst);
+        }
+    }
+
+    /**
+     * Compresses the remaining bytes of the specified buffer. The buffer position is not modified.
+     *
+     * @param src a direct buffer
+     * @param dst the channel to write the seekable frame to
+     *
+     * @return the number of bytes written to {@code dst}
+     */
+    public long compress(ByteBuffer src, WritableByteChannel dst) throws IOException {
+        return ncompress(memAddress(src), src.remaining(), dst);
+    }
+
+    /**
+     * Unsafe version of {@link #compress(ByteBuffer, WritableByteChannel) compress}.
+     *
+     * @param src  the address of the data to compress
+     * @param size the number of bytes to compress
+     * @param dst  the channel to write the seekable frame to
+     *
+     * @return the number of bytes written to {@code dst}
+     */
+    public long ncompress(long src, long size, WritableByteChannel dst) throws IOException {
+        long blocks = (size + blockSize - 1L) / blockSize;
+        if ((Integer.MAX_VALUE - SEEK_TABLE_FOOTER_SIZE) / SEEK_TABLE_ENTRY_SIZE < blocks) {
+            throw new IllegalArgumentException("The input is too large: " + size);
+        }
+
+        int   blockCount      = (int)blocks;
+        int[] compressedSizes = new int[blockCount];
+
+        long written = write(dst, header.duplicate());
+
+        // Enough blocks to keep all workers busy while bounding memory usage
+        int          batch   = Math.min(pool.getParallelism() * 2, Math.max(blockCount, 1));
+        ByteBuffer[] outputs = new ByteBuffer[batch];
+        try {
+            for (int i = 0; i < batch; i++) {
+                outputs[i] = memAlloc(blockBound);
+            }
+
+            List<Callable<Void>> tasks = new ArrayList<>(batch);
+            for (int first = 0; first < blockCount; first += batch) {
+                int count = Math.min(batch, blockCount - first);
+
+                tasks.clear();
+                for (int i = 0; i < count; i++) {
+                    int block = first + i;
+                    int slot  = i;
+                    tasks.add(() -> {
+                        long offset = (long)block * blockSize;
+                        compressedSizes[block] = compressBlock(src + offset, (int)Math.min(blockSize, size - offset), outputs[slot]);
+                        return null;
+                    });
+                }
+
+                for (Future<Void> future : pool.invokeAll(tasks)) {
+                    join(future);
+                }
+
+                for (int i = 0; i < count; i++) {
+                    ByteBuffer output = outputs[i];
+                    output.clear();
+                    output.position(header.remaining()).limit(header.remaining() + compressedSizes[first + i]);
+
+                    written += write(dst, output);
+                }
+            }
+        } finally {
+            for (ByteBuffer output : outputs) {
+                memFree(output);
+            }
+        }
+
+        ByteBuffer table = memAlloc(END_MARK_SIZE + 8 + blockCount * SEEK_TABLE_ENTRY_SIZE + SEEK_TABLE_FOOTER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            // LZ4 frame end mark
+            table.putInt(0);
+
+            table
+                .putInt(SKIPPABLE_MAGIC)
+                .putInt(blockCount * SEEK_TABLE_ENTRY_SIZE + SEEK_TABLE_FOOTER_SIZE);
+            for (int i = 0; i < blockCount; i++) {
+                long offset = (long)i * blockSize;
+                table
+                    .putInt(compressedSizes[i])
+                    .putInt((int)Math.min(blockSize, size - offset));
+            }
+            table
+                .putInt(blockCount)
+                .putInt(blockSize)
+                .putInt(SEEK_TABLE_MAGIC);
+            table.flip();
+
+            written += write(dst, table);
+        } finally {
+            memFree(table);
+        }
+
+        return written;
+    }
+
+    /**
+     * Compresses one block as a complete frame and strips the frame header and end mark.
+     *
+     * @return the size of the block, including the block header and checksum
+     */
+    private int compressBlock(long src, int size, ByteBuffer output) {
+        long cctx = acquireContext();
+        try {
+            long dst      = memAddress0(output);
+            long capacity = output.capacity();
+
+            long headerSize = check(nLZ4F_compressBegin(cctx, dst, capacity, prefs.address()));
+            if (headerSize != header.remaining()) {
+                throw new IllegalStateException("Unexpected LZ4 frame header size: " + headerSize);
+            }
+
+            long update = check(nLZ4F_compressUpdate(cctx, dst + headerSize, capacity - headerSize, src, size, NULL));
+            long end    = check(nLZ4F_compressEnd(cctx, dst + headerSize + update, capacity - headerSize - update, NULL));
+
+            return (int)(update + end - END_MARK_SIZE);
+        } finally {
+            releaseContext(cctx);
+        }
+    }
+
+    private static void join(Future<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static long write(WritableByteChannel dst, ByteBuffer src) throws IOException {
+        long written = src.remaining();
+        while (src.hasRemaining()) {
+            dst.write(src);
+        }
+        return written;
+    }
+
+    /** Frees the compression contexts. The pool is not shut down. */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        Long cctx;
+        while ((cctx = contexts.poll()) != null) {
+            LZ4F_freeCompressionContext(cctx);
+        }
+        memFree(header);
+        prefs.free();
+    }
+
+}
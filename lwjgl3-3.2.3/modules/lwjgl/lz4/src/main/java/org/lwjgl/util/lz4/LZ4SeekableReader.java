@@ -0,0 +1,255 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4.*;
+import static org.lwjgl.util.lz4.LZ4ParallelCompressor.*;
+
+/**
+ * Decompresses arbitrary byte ranges of a seekable LZ4 frame, written by {@link LZ4ParallelCompressor}.
+ *
+ * <p>The seek table is read when the reader is opened. Each {@link #read} call then reads and decompresses only the blocks that overlap the requested range.
+ * Blocks that are fully covered by the range are decompressed directly into the destination buffer, if it is a direct buffer. Block checksums are not
+ * verified.</p>
+ *
+ * <p>This class is not thread-safe. Use one reader per thread to decompress ranges concurrently.</p>
+ */
+public final class LZ4SeekableReader implements AutoCloseable {
+
+    private static final int FRAME_MAGIC = 0x184D2204;
+
+    private final FileChannel channel;
+
+    private final int blockSize;
+
+    /** The offset of each block in the file, plus the end offset of the last block. */
+    private final long[] blockOffsets;
+    /** The offset of each block in the decompressed content, plus the decompressed size. */
+    private final long[] contentOffsets;
+
+    private final ByteBuffer compressed;
+    private final ByteBuffer decompressed;
+
+    /** The block currently decompressed in {@link #decompressed}, or -1. */
+    private int cachedBlock = -1;
+
+    private boolean closed;
+
+    /**
+     * Opens the seekable frame at the specified path.
+     *
+     * @throws IOException if the file could not be read or is not a seekable LZ4 frame
+     */
+    public static LZ4SeekableReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new LZ4SeekableReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a reader for the seekable frame in the specified channel.
+     *
+     * <p>The channel is closed when the reader is closed.</p>
+     *
+     * @throws IOException if the channel could not be read or does not contain a seekable LZ4 frame
+     */
+    public LZ4SeekableReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        long fileSize = channel.size();
+        if (fileSize < LZ4Frame.LZ4F_HEADER_SIZE_MIN + END_MARK_SIZE + 8 + SEEK_TABLE_FOOTER_SIZE) {
+            throw new IOException("Not a seekable LZ4 frame.");
+        }
+
+        ByteBuffer footer = read(fileSize - SEEK_TABLE_FOOTER_SIZE, SEEK_TABLE_FOOTER_SIZE);
+        int blockCount = footer.getInt(0);
+        blockSize = footer.getInt(4);
+        if (footer.getInt(8) != SEEK_TABLE_MAGIC || blockCount < 0 || blockSize <= 0) {
+            throw new IOException("Seek table not found.");
+        }
+
+        long tableSize  = (long)blockCount * SEEK_TABLE_ENTRY_SIZE + SEEK_TABLE_FOOTER_SIZE;
+        long tableStart = fileSize - tableSize - 8;
+        if (tableStart < LZ4Frame.LZ4F_HEADER_SIZE_MIN + END_MARK_SIZE) {
+            throw new IOException("Invalid seek table.");
+        }
+
+        ByteBuffer table = read(tableStart, (int)(tableSize + 8));
+        if (table.getInt(0) != SKIPPABLE_MAGIC || Integer.toUnsignedLong(table.getInt(4)) != tableSize) {
+            throw new IOException("Invalid seek table.");
+        }
+
+        ByteBuffer frameHeader = read(0L, 5);
+        if (frameHeader.getInt(0) != FRAME_MAGIC) {
+            throw new IOException("Not an LZ4 frame.");
+        }
+        int flags = frameHeader.get(4);
+
+        long offset = LZ4Frame.LZ4F_HEADER_SIZE_MIN
+                      + ((flags & 0x08) != 0 ? 8 : 0)  // content size
+                      + ((flags & 0x01) != 0 ? 4 : 0); // dictionary ID
+
+        blockOffsets = new long[blockCount + 1];
+        contentOffsets = new long[blockCount + 1];
+
+        int maxCompressedSize = 0;
+        for (int i = 0; i < blockCount; i++) {
+            int compressedSize   = table.getInt(8 + i * SEEK_TABLE_ENTRY_SIZE);
+            int decompressedSize = table.getInt(8 + i * SEEK_TABLE_ENTRY_SIZE + 4);
+            if (compressedSize <= 0 || decompressedSize <= 0 || blockSize < decompressedSize) {
+                throw new IOException("Invalid seek table entry: " + i);
+            }
+
+            blockOffsets[i + 1] = blockOffsets[i] + compressedSize;
+            contentOffsets[i + 1] = contentOffsets[i] + decompressedSize;
+
+            maxCompressedSize = Math.max(maxCompressedSize, compressedSize);
+        }
+        for (int i = 0; i <= blockCount; i++) {
+            blockOffsets[i] += offset;
+        }
+
+        long frameEnd = blockOffsets[blockCount] + END_MARK_SIZE + ((flags & 0x04) != 0 ? LZ4Frame.LZ4F_CONTENT_CHECKSUM_SIZE : 0);
+        if (frameEnd != tableStart) {
+            throw new IOException("The seek table does not match the LZ4 frame.");
+        }
+
+        compressed = memAlloc(maxCompressedSize).order(ByteOrder.LITTLE_ENDIAN);
+        decompressed = memAlloc(blockSize);
+    }
+
+    private ByteBuffer read(long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(buffer, position);
+        return buffer;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    /** Returns the decompressed size of the frame. */
+    public long size() {
+        return contentOffsets[contentOffsets.length - 1];
+    }
+
+    /** Returns the number of blocks in the frame. */
+    public int getBlockCount() {
+        return blockOffsets.length - 1;
+    }
+
+    /** Returns the maximum decompressed size of a block. */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Decompresses the bytes starting at the specified position into {@code dst}.
+     *
+     * <p>Reads up to {@code dst.remaining()} bytes. The position of {@code dst} is advanced by the number of bytes read. Heap buffers are supported, but only
+     * direct buffers receive whole blocks without an intermediate copy.</p>
+     *
+     * @param position the position in the decompressed content
+     * @param dst      the destination buffer
+     *
+     * @return the number of bytes read, or -1 if {@code position} is greater than or equal to the decompressed size
+     *
+     * @throws IOException if the file could not be read or a block is corrupted
+     */
+    public int read(long position, ByteBuffer dst) throws IOException {
+        if (position < 0L) {
+            throw new IllegalArgumentException("Negative position: " + position);
+        }
+        if (size() <= position) {
+            return -1;
+        }
+
+        long end = Math.min(size(), position + dst.remaining());
+
+        int block = Arrays.binarySearch(contentOffsets, position);
+        if (block < 0) {
+            block = -block - 2;
+        }
+
+        int start = dst.position();
+        for (; block < getBlockCount() && contentOffsets[block] < end; block++) {
+            long blockStart  = contentOffsets[block];
+            int  blockLength = (int)(contentOffsets[block + 1] - blockStart);
+
+            int from = (int)(Math.max(position, blockStart) - blockStart);
+            int to   = (int)(Math.min(end, blockStart + blockLength) - blockStart);
+
+            if (from == 0 && to == blockLength && dst.isDirect()) {
+                decompressBlock(block, memAddress(dst), blockLength);
+                dst.position(dst.position() + blockLength);
+            } else {
+                if (cachedBlock != block) {
+                    cachedBlock = -1;
+                    decompressBlock(block, memAddress0(decompressed), blockLength);
+                    cachedBlock = block;
+                }
+
+                // dst may be a heap buffer
+                ByteBuffer src = decompressed.duplicate();
+                src.position(from);
+                src.limit(to);
+                dst.put(src);
+            }
+        }
+
+        return dst.position() - start;
+    }
+
+    private void decompressBlock(int block, long dst, int size) throws IOException {
+        compressed.clear().limit((int)(blockOffsets[block + 1] - blockOffsets[block]));
+        readFully(compressed, blockOffsets[block]);
+
+        int header     = compressed.getInt(0);
+        int dataSize   = header & 0x7FFFFFFF;
+        boolean stored = header < 0;
+        if (compressed.limit() - 4 < dataSize) {
+            throw new IOException("Corrupted LZ4 block: " + block);
+        }
+
+        long src = memAddress0(compressed) + 4;
+        if (stored) {
+            if (dataSize != size) {
+                throw new IOException("Corrupted LZ4 block: " + block);
+            }
+            memCopy(src, dst, size);
+        } else if (nLZ4_decompress_safe(src, dst, dataSize, size) != size) {
+            throw new IOException("Corrupted LZ4 block: " + block);
+        }
+    }
+
+    /** Closes the channel and frees the decompression buffers. */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        memFree(decompressed);
+        memFree(compressed);
+        channel.close();
+    }
+
+}
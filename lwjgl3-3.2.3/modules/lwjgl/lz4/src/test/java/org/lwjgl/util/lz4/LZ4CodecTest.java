@@ -0,0 +1,51 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.system.*;
+import org.lwjgl.system.CodecCalibrator.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4HC.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LZ4CodecTest extends CodecTest {
+
+    private static final int LZ4F_MAGIC = 0x184D2204;
+
+    @Override
+    protected Codec createCodec() {
+        return new LZ4Codec();
+    }
+
+    @Override
+    protected void checkRecommendation(Result best) {
+        // the best ratio requires LZ4HC
+        assertTrue(LZ4HC_CLEVEL_MIN <= best.getLevel(), best.toString());
+    }
+
+    public void testFrame() {
+        ByteBuffer data = createData(100_000);
+        try (LZ4Codec codec = new LZ4Codec()) {
+            ByteBuffer compressed = memAlloc((int)codec.compressBound(data.remaining()));
+            try {
+                compressed.limit((int)codec.compress(data, compressed, codec.getDefaultLevel()));
+                assertEquals(compressed.order(ByteOrder.LITTLE_ENDIAN).getInt(0), LZ4F_MAGIC);
+            } finally {
+                memFree(compressed);
+            }
+
+            expectThrows(IllegalArgumentException.class, () -> codec.mapLevel(Codec.LEVEL_FASTEST - 1));
+            assertEquals(codec.mapLevel(Codec.LEVEL_BEST), LZ4HC_CLEVEL_MAX);
+        } finally {
+            memFree(data);
+        }
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+
+import static org.lwjgl.system.CodecTestData.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LZ4MessageTest {
+
+    private static final int MAX_MESSAGE_SIZE = 4 * 1024;
+
+    private static ByteBuffer createMessage(Random random) {
+        StringBuilder sb = new StringBuilder(256);
+
+        int items = 1 + random.nextInt(20);
+        sb.append("{\"id\":").append(random.nextInt(1_000_000)).append(",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            sb.append(createEvent(random)).append(',');
+        }
+        return memASCII(sb.append("]}").toString(), false);
+    }
+
+    private static ByteBuffer[] createMessages(Random random, int count) {
+        ByteBuffer[] messages = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            messages[i] = createMessage(random);
+        }
+        // also test empty messages
+        messages[count / 2].limit(0);
+        return messages;
+    }
+
+    private static void free(ByteBuffer[] messages) {
+        for (ByteBuffer message : messages) {
+            memFree(message);
+        }
+    }
+
+    public void testRoundTrip() {
+        ByteBuffer[] messages = createMessages(new Random(1234L), 5000);
+        try {
+            // fast, accelerated and HC
+            for (int level : new int[] {0, -8, 9}) {
+                try (
+                    LZ4MessageEncoder encoder = new LZ4MessageEncoder(MAX_MESSAGE_SIZE, level);
+                    LZ4MessageDecoder decoder = new LZ4MessageDecoder(MAX_MESSAGE_SIZE)
+                ) {
+                    ByteBuffer encoded = memAlloc(messages.length * LZ4MessageEncoder.getMaxEncodedSize(MAX_MESSAGE_SIZE));
+                    ByteBuffer decoded = memAlloc(MAX_MESSAGE_SIZE);
+                    try {
+                        for (ByteBuffer message : messages) {
+                            encoder.encode(message, encoded);
+                        }
+                        encoded.flip();
+
+                        for (ByteBuffer message : messages) {
+                            decoded.clear();
+                            assertEquals(decoder.decode(encoded, decoded), message.remaining());
+                            decoded.flip();
+                            assertEquals(decoded, message);
+                        }
+                        assertFalse(encoded.hasRemaining());
+                    } finally {
+                        memFree(decoded);
+                        memFree(encoded);
+                    }
+                }
+            }
+        } finally {
+            free(messages);
+        }
+    }
+
+    private static ByteBuffer createLargeMessage(Random random, int size) {
+        StringBuilder sb = new StringBuilder(size + 2048);
+        while (sb.length() < size) {
+            ByteBuffer message = createMessage(random);
+            try {
+                sb.append(memASCII(message));
+            } finally {
+                memFree(message);
+            }
+        }
+        sb.setLength(size);
+        return memASCII(sb, false);
+    }
+
+    public void testLargeMessages() {
+        int maxMessageSize = LZ4MessageEncoder.DICTIONARY_SIZE;
+
+        expectThrows(IllegalArgumentException.class, () -> new LZ4MessageEncoder(maxMessageSize + 1));
+        expectThrows(IllegalArgumentException.class, () -> new LZ4MessageDecoder(maxMessageSize + 1));
+
+        Random random = new Random(1234L);
+
+        // messages of exactly the history size end at the wrap-around point, the rest overlap the history after a wrap-around
+        ByteBuffer[] messages = new ByteBuffer[40];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = createLargeMessage(random, i % 4 == 0 ? maxMessageSize : 60 * 1024 + random.nextInt(4 * 1024));
+        }
+        try {
+            for (int level : new int[] {0, 9}) {
+                try (
+                    LZ4MessageEncoder encoder = new LZ4MessageEncoder(maxMessageSize, level);
+                    LZ4MessageDecoder decoder = new LZ4MessageDecoder(maxMessageSize)
+                ) {
+                    ByteBuffer encoded = memAlloc(messages.length * LZ4MessageEncoder.getMaxEncodedSize(maxMessageSize));
+                    ByteBuffer decoded = memAlloc(maxMessageSize);
+                    try {
+                        for (ByteBuffer message : messages) {
+                            encoder.encode(message, encoded);
+                        }
+                        encoded.flip();
+
+                        for (ByteBuffer message : messages) {
+                            decoded.clear();
+                            assertEquals(decoder.decode(encoded, decoded), message.remaining());
+                            decoded.flip();
+                            assertEquals(decoded, message);
+                        }
+                        assertFalse(encoded.hasRemaining());
+                    } finally {
+                        memFree(decoded);
+                        memFree(encoded);
+                    }
+                }
+            }
+        } finally {
+            free(messages);
+        }
+    }
+
+    public void testBatches() {
+        ByteBuffer[] messages = createMessages(new Random(1234L), 2000);
+        try (
+            LZ4MessageEncoder encoder = new LZ4MessageEncoder(MAX_MESSAGE_SIZE);
+            LZ4MessageDecoder decoder = new LZ4MessageDecoder(MAX_MESSAGE_SIZE)
+        ) {
+            ByteBuffer packet  = memAlloc(16 * 1024);
+            ByteBuffer stream  = memAlloc(32 * 1024);
+            ByteBuffer decoded = memAlloc(64 * 1024);
+            IntBuffer  sizes   = memAllocInt(64);
+            try {
+                Random random = new Random(5678L);
+
+                int encodedCount = 0;
+                int decodedCount = 0;
+                while (decodedCount < messages.length) {
+                    // encode as many messages as fit in a packet
+                    packet.clear();
+                    encodedCount += encoder.encode(Arrays.copyOfRange(messages, encodedCount, messages.length), packet);
+                    packet.flip();
+
+                    // receive the packet in random chunks, messages may be split across chunks
+                    while (packet.hasRemaining()) {
+                        ByteBuffer chunk = packet.slice();
+                        chunk.limit(Math.min(chunk.remaining(), random.nextInt(1024) + 1));
+                        packet.position(packet.position() + chunk.remaining());
+                        stream.put(chunk);
+                        stream.flip();
+
+                        int count;
+                        do {
+                            decoded.clear();
+                            sizes.clear();
+                            count = decoder.decode(stream, decoded, sizes);
+                            decoded.flip();
+
+                            for (int i = 0; i < count; i++) {
+                                ByteBuffer message = decoded.slice();
+                                message.limit(sizes.get(i));
+                                decoded.position(decoded.position() + sizes.get(i));
+
+                                assertEquals(message, messages[decodedCount++]);
+                            }
+                        } while (count != 0);
+                        stream.compact();
+                    }
+                }
+                assertEquals(encodedCount, messages.length);
+                assertEquals(stream.position(), 0);
+            } finally {
+                memFree(sizes);
+                memFree(decoded);
+                memFree(stream);
+                memFree(packet);
+            }
+        } finally {
+            free(messages);
+        }
+    }
+
+    public void testHistory() {
+        ByteBuffer message = createMessage(new Random(1234L));
+        try (
+            LZ4MessageEncoder encoder = new LZ4MessageEncoder(MAX_MESSAGE_SIZE, 9);
+            LZ4MessageDecoder decoder = new LZ4MessageDecoder(MAX_MESSAGE_SIZE)
+        ) {
+            ByteBuffer encoded = memAlloc(3 * LZ4MessageEncoder.getMaxEncodedSize(MAX_MESSAGE_SIZE));
+            ByteBuffer decoded = memAlloc(MAX_MESSAGE_SIZE);
+            try {
+                int independent = encoder.encode(message, encoded);
+                int repeated    = encoder.encode(message, encoded);
+                assertTrue(repeated < independent / 4, repeated + " >= " + independent + " / 4");
+
+                // a shared dictionary is used by the first message after a reset
+                encoder.reset(message);
+                int dictionary = encoder.encode(message, encoded);
+                assertTrue(dictionary < independent / 4, dictionary + " >= " + independent + " / 4");
+
+                encoded.flip();
+                for (int i = 0; i < 3; i++) {
+                    if (i == 2) {
+                        decoder.reset(message);
+                    }
+                    decoded.clear();
+                    decoder.decode(encoded, decoded);
+                    decoded.flip();
+                    assertEquals(decoded, message);
+                }
+            } finally {
+                memFree(decoded);
+                memFree(encoded);
+            }
+        } finally {
+            memFree(message);
+        }
+    }
+
+    public void testBufferLimits() {
+        ByteBuffer message = createMessage(new Random(1234L));
+        try (
+            LZ4MessageEncoder encoder = new LZ4MessageEncoder(MAX_MESSAGE_SIZE);
+            LZ4MessageDecoder decoder = new LZ4MessageDecoder(MAX_MESSAGE_SIZE)
+        ) {
+            ByteBuffer encoded = memAlloc(LZ4MessageEncoder.getMaxEncodedSize(MAX_MESSAGE_SIZE));
+            ByteBuffer decoded = memAlloc(MAX_MESSAGE_SIZE);
+            try {
+                encoded.limit(LZ4MessageEncoder.getMaxEncodedSize(message.remaining()) - 1);
+                expectThrows(BufferOverflowException.class, () -> encoder.encode(message, encoded));
+                assertEquals(encoded.position(), 0);
+
+                encoded.clear();
+                encoder.encode(message, encoded);
+                encoded.flip();
+
+                decoded.limit(message.remaining() - 1);
+                expectThrows(BufferOverflowException.class, () -> decoder.decode(encoded, decoded));
+
+                encoded.limit(encoded.limit() - 1);
+                decoded.clear();
+                expectThrows(BufferUnderflowException.class, () -> decoder.decode(encoded, decoded));
+                assertEquals(encoded.position(), 0);
+                assertEquals(decoded.position(), 0);
+
+                encoded.limit(encoded.limit() + 1);
+                assertEquals(decoder.decode(encoded, decoded), message.remaining());
+            } finally {
+                memFree(decoded);
+                memFree(encoded);
+            }
+        } finally {
+            memFree(message);
+        }
+    }
+
+}
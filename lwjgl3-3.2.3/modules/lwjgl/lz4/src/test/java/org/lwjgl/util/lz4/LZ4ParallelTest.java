@@ -0,0 +1,151 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.lz4;
+
+import org.lwjgl.*;
+import org.lwjgl.system.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryStack.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+import static org.testng.Assert.*;
+
+@Test
+public class LZ4ParallelTest {
+
+    private static ByteBuffer createData(int size) {
+        ByteBuffer data = memAlloc(size);
+        data.put(CodecTestData.createData(size));
+        data.flip();
+        return data;
+    }
+
+    private static Path compress(ByteBuffer data, int level, boolean blockChecksum) throws IOException {
+        Path path = Files.createTempFile("lwjgl", ".lz4");
+        try (
+            LZ4ParallelCompressor compressor = new LZ4ParallelCompressor(LZ4F_max64KB, level, blockChecksum, ForkJoinPool.commonPool());
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)
+        ) {
+            assertEquals(compressor.compress(data, channel), channel.size());
+        }
+        return path;
+    }
+
+    public void testStandardDecoder() throws IOException {
+        ByteBuffer data = createData(1024 * 1024 + 17);
+
+        Path path = compress(data, 1, true);
+        try {
+            ByteBuffer frame        = ioReadFully(path);
+            ByteBuffer decompressed = memAlloc(data.remaining());
+            try (MemoryStack stack = stackPush()) {
+                PointerBuffer pp = stack.mallocPointer(1);
+                assertFalse(LZ4F_isError(LZ4F_createDecompressionContext(pp, LZ4F_VERSION)));
+                long dctx = pp.get(0);
+
+                PointerBuffer dstSize = stack.mallocPointer(1);
+                PointerBuffer srcSize = stack.mallocPointer(1);
+
+                // decode the first frame only, the seek table follows
+                long hint;
+                do {
+                    dstSize.put(0, decompressed.remaining());
+                    srcSize.put(0, frame.remaining());
+
+                    hint = LZ4F_decompress(dctx, decompressed, dstSize, frame, srcSize, null);
+                    assertFalse(LZ4F_isError(hint), LZ4F_getErrorName(hint));
+
+                    decompressed.position(decompressed.position() + (int)dstSize.get(0));
+                    frame.position(frame.position() + (int)srcSize.get(0));
+                } while (hint != 0L);
+
+                LZ4F_freeDecompressionContext(dctx);
+
+                decompressed.flip();
+                assertEquals(decompressed, data);
+            } finally {
+                memFree(decompressed);
+                memFree(frame);
+            }
+        } finally {
+            Files.delete(path);
+            memFree(data);
+        }
+    }
+
+    public void testRandomAccess() throws IOException {
+        ByteBuffer data = createData(1024 * 1024 + 17);
+
+        Path path = compress(data, 9, false);
+        try (LZ4SeekableReader reader = LZ4SeekableReader.open(path)) {
+            assertEquals(reader.size(), data.remaining());
+            assertEquals(reader.getBlockCount(), 17);
+
+            ByteBuffer heap   = ByteBuffer.allocate(200 * 1024);
+            ByteBuffer direct = memAlloc(200 * 1024);
+            try {
+                Random random = new Random(5678L);
+                for (int i = 0; i < 100; i++) {
+                    int position = random.nextInt(data.remaining());
+                    int length   = Math.min(random.nextInt(heap.capacity()) + 1, data.remaining() - position);
+
+                    ByteBuffer expected = data.duplicate();
+                    expected.position(position).limit(position + length);
+
+                    ByteBuffer dst = i % 2 == 0 ? heap : direct;
+                    dst.clear().limit(length);
+                    assertEquals(reader.read(position, dst), length);
+                    dst.flip();
+                    assertEquals(dst, expected);
+                }
+
+                // whole blocks are decompressed in place
+                direct.clear().limit(128 * 1024);
+                assertEquals(reader.read(64 * 1024, direct), 128 * 1024);
+
+                direct.clear();
+                assertEquals(reader.read(data.remaining(), direct), -1);
+            } finally {
+                memFree(direct);
+            }
+        } finally {
+            Files.delete(path);
+            memFree(data);
+        }
+    }
+
+    public void testEmpty() throws IOException {
+        ByteBuffer data = memAlloc(0);
+
+        Path path = compress(data, 1, false);
+        try (LZ4SeekableReader reader = LZ4SeekableReader.open(path)) {
+            assertEquals(reader.size(), 0L);
+            assertEquals(reader.getBlockCount(), 0);
+        } finally {
+            Files.delete(path);
+            memFree(data);
+        }
+    }
+
+    private static ByteBuffer ioReadFully(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = memAlloc((int)channel.size());
+            while (buffer.hasRemaining()) {
+                channel.read(buffer);
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+}
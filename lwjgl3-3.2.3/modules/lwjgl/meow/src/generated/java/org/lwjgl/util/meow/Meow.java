@@ -38,6 +38,8 @@ public class Meow {
 
     public static final String MEOW_HASH_VERSION_NAME = "0.4/himalayan";
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Meow.class, "MeowU64From,MeowU32From,MeowHashesAreEqual,MeowHash_Accelerated,MeowHashBegin,MeowHashAbsorb,MeowHashEnd");
+
     static { LibMeow.initialize(); }
 
     protected Meow() {
@@ -50,7 +52,8 @@ public class Meow {
 
     @NativeType("meow_u64")
     public static long MeowU64From(@NativeType("meow_hash") MeowHash Hash) {
-        return nMeowU64From(Hash.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nMeowU64From(Hash.address()));
     }
 
     // --- [ MeowU32From ] ---
@@ -59,7 +62,8 @@ public class Meow {
 
     @NativeType("meow_u32")
     public static int MeowU32From(@NativeType("meow_hash") MeowHash Hash) {
-        return nMeowU32From(Hash.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nMeowU32From(Hash.address()));
     }
 
     // --- [ MeowHashesAreEqual ] ---
@@ -68,7 +72,8 @@ public class Meow {
 
     @NativeType("int")
     public static boolean MeowHashesAreEqual(@NativeType("meow_hash") MeowHash A, @NativeType("meow_hash") MeowHash B) {
-        return nMeowHashesAreEqual(A.address(), B.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nMeowHashesAreEqual(A.address(), B.address())) != 0;
     }
 
     // --- [ MeowHash_Accelerated ] ---
@@ -77,43 +82,57 @@ public class Meow {
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") ByteBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, SourceInit.remaining(), memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") ShortBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 1, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") IntBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 2, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") LongBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 3, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") FloatBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 2, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") DoubleBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 3, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_Accelerated(@NativeType("meow_u64") long Seed, @NativeType("void *") PointerBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_Accelerated(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << POINTER_SHIFT, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
@@ -122,7 +141,9 @@ public class Meow {
     public static native void nMeowHashBegin(long State);
 
     public static void MeowHashBegin(@NativeType("meow_hash_state *") MeowHashState State) {
+        long __start = FunctionProfiler.start();
         nMeowHashBegin(State.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ MeowHashAbsorb ] ---
@@ -130,7 +151,9 @@ public class Meow {
     public static native void nMeowHashAbsorb(long State, long Len, long SourceInit);
 
     public static void MeowHashAbsorb(@NativeType("meow_hash_state *") MeowHashState State, @NativeType("void *") ByteBuffer SourceInit) {
+        long __start = FunctionProfiler.start();
         nMeowHashAbsorb(State.address(), SourceInit.remaining(), memAddress(SourceInit));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ MeowHashEnd ] ---
@@ -139,7 +162,9 @@ public class Meow {
 
     @NativeType("meow_hash")
     public static MeowHash MeowHashEnd(@NativeType("meow_hash_state *") MeowHashState State, @NativeType("meow_u64") long Seed, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHashEnd(State.address(), Seed, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
         return __result;
     }
 
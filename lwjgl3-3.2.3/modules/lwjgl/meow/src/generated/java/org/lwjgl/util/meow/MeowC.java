@@ -17,6 +17,8 @@ import static org.lwjgl.system.Pointer.*;
 /** Pure C implementation of Meow hash. */
 public class MeowC {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(MeowC.class, "MeowHash_C");
+
     static { LibMeow.initialize(); }
 
     protected MeowC() {
@@ -29,43 +31,57 @@ public class MeowC {
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") ByteBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, SourceInit.remaining(), memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") ShortBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 1, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") IntBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 2, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") LongBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 3, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") FloatBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 2, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") DoubleBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << 3, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
     @NativeType("meow_hash")
     public static MeowHash MeowHash_C(@NativeType("meow_u64") long Seed, @NativeType("void *") PointerBuffer SourceInit, @NativeType("meow_hash") MeowHash __result) {
+        long __start = FunctionProfiler.start();
         nMeowHash_C(Seed, Integer.toUnsignedLong(SourceInit.remaining()) << POINTER_SHIFT, memAddress(SourceInit), __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
@@ -281,6 +281,24 @@ public class BNDnodeTheme extends Struct implements NativeResource {
         return wrap(BNDnodeTheme.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BNDnodeTheme} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BNDnodeTheme malloc(MemoryArena arena) {
+        return wrap(BNDnodeTheme.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BNDnodeTheme} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BNDnodeTheme calloc(MemoryArena arena) {
+        return wrap(BNDnodeTheme.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BNDnodeTheme.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -319,6 +337,26 @@ public class BNDnodeTheme extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BNDnodeTheme.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BNDnodeTheme.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BNDnodeTheme.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BNDnodeTheme.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #nodeSelectedColor}. */
@@ -437,6 +475,16 @@ public class BNDnodeTheme extends Struct implements NativeResource {
         /** Sets the specified value to the {@code noodleCurving} field. */
         public BNDnodeTheme.Buffer noodleCurving(int value) { BNDnodeTheme.nnoodleCurving(address(), value); return this; }
 
+        /** Copies the {@code noodleCurving} field of the structs between the current position and limit to the specified array. */
+        public BNDnodeTheme.Buffer getNoodleCurving(int[] dst) { gather(BNDnodeTheme.NOODLECURVING, dst); return this; }
+        /** Copies the {@code noodleCurving} field of the structs between the current position and limit to the specified buffer. */
+        public BNDnodeTheme.Buffer getNoodleCurving(IntBuffer dst) { gather(BNDnodeTheme.NOODLECURVING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code noodleCurving} field of the structs between the current position and limit. */
+        public BNDnodeTheme.Buffer putNoodleCurving(int[] src) { scatter(BNDnodeTheme.NOODLECURVING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code noodleCurving} field of the structs between the current position and limit. */
+        public BNDnodeTheme.Buffer putNoodleCurving(IntBuffer src) { scatter(BNDnodeTheme.NOODLECURVING, src); return this; }
+
     }
 
 }
\ No newline at end of file
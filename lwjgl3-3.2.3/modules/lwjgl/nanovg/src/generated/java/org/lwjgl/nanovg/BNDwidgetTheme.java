@@ -293,6 +293,24 @@ public class BNDwidgetTheme extends Struct implements NativeResource {
         return wrap(BNDwidgetTheme.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code BNDwidgetTheme} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BNDwidgetTheme malloc(MemoryArena arena) {
+        return wrap(BNDwidgetTheme.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code BNDwidgetTheme} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static BNDwidgetTheme calloc(MemoryArena arena) {
+        return wrap(BNDwidgetTheme.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link BNDwidgetTheme.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class BNDwidgetTheme extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link BNDwidgetTheme.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BNDwidgetTheme.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link BNDwidgetTheme.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static BNDwidgetTheme.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #outlineColor}. */
@@ -457,6 +495,24 @@ public class BNDwidgetTheme extends Struct implements NativeResource {
         /** Sets the specified value to the {@code shadeDown} field. */
         public BNDwidgetTheme.Buffer shadeDown(int value) { BNDwidgetTheme.nshadeDown(address(), value); return this; }
 
+        /** Copies the {@code shadeTop} field of the structs between the current position and limit to the specified array. */
+        public BNDwidgetTheme.Buffer getShadeTop(int[] dst) { gather(BNDwidgetTheme.SHADETOP, dst); return this; }
+        /** Copies the {@code shadeTop} field of the structs between the current position and limit to the specified buffer. */
+        public BNDwidgetTheme.Buffer getShadeTop(IntBuffer dst) { gather(BNDwidgetTheme.SHADETOP, dst); return this; }
+        /** Copies the {@code shadeDown} field of the structs between the current position and limit to the specified array. */
+        public BNDwidgetTheme.Buffer getShadeDown(int[] dst) { gather(BNDwidgetTheme.SHADEDOWN, dst); return this; }
+        /** Copies the {@code shadeDown} field of the structs between the current position and limit to the specified buffer. */
+        public BNDwidgetTheme.Buffer getShadeDown(IntBuffer dst) { gather(BNDwidgetTheme.SHADEDOWN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code shadeTop} field of the structs between the current position and limit. */
+        public BNDwidgetTheme.Buffer putShadeTop(int[] src) { scatter(BNDwidgetTheme.SHADETOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code shadeTop} field of the structs between the current position and limit. */
+        public BNDwidgetTheme.Buffer putShadeTop(IntBuffer src) { scatter(BNDwidgetTheme.SHADETOP, src); return this; }
+        /** Copies the values in the specified array to the {@code shadeDown} field of the structs between the current position and limit. */
+        public BNDwidgetTheme.Buffer putShadeDown(int[] src) { scatter(BNDwidgetTheme.SHADEDOWN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code shadeDown} field of the structs between the current position and limit. */
+        public BNDwidgetTheme.Buffer putShadeDown(IntBuffer src) { scatter(BNDwidgetTheme.SHADEDOWN, src); return this; }
+
     }
 
 }
\ No newline at end of file
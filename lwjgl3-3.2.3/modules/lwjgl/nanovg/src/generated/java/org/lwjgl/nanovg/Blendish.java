@@ -1088,6 +1088,8 @@ public class Blendish {
         BND_ICON_IMAGE_ZDEPTH           = BND_ICONID(12,0),
         BND_ICON_IMAGEFILE              = BND_ICONID(13,0);
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Blendish.class, "bndSetTheme,bndGetTheme,bndLabel,bndToolButton,bndRadioButton,bndTextFieldTextPosition,bndTextField,bndOptionButton,bndChoiceButton,bndColorButton,bndNumberField,bndSlider,bndScrollBar,bndMenuBackground,bndMenuLabel,bndMenuItem,bndTooltipBackground,bndNodePort,bndNodeWire,bndColoredNodeWire,bndNodeBackground,bndSplitterWidgets,bndJoinAreaOverlay,bndLabelWidth,bndLabelHeight,bndTransparent,bndOffsetColor,bndSelectCorners,bndInnerColors,bndTextColor,bndScrollHandleRect,bndRoundedBox,bndBackground,bndBevel,bndBevelInset,bndIcon,bndDropShadow,bndInnerBox,bndOutlineBox,bndIconLabelValue,bndNodeIconLabel,bndIconLabelTextPosition,bndIconLabelCaret,bndCheck,bndArrow,bndUpDownArrow,bndNodeArrowDown,bndNodeWireColor");
+
     static { LibNanoVG.initialize(); }
 
     protected Blendish() {
@@ -1101,7 +1103,9 @@ public class Blendish {
 
     /** Sets the current theme all widgets will be drawn with. The default Blender 2.6 theme is set by default. */
     public static void bndSetTheme(BNDtheme theme) {
+        long __start = FunctionProfiler.start();
         nbndSetTheme(theme.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ bndGetTheme ] ---
@@ -1113,7 +1117,8 @@ public class Blendish {
     @Nullable
     @NativeType("BNDtheme const *")
     public static BNDtheme bndGetTheme() {
-        long __result = nbndGetTheme();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nbndGetTheme());
         return BNDtheme.createSafe(__result);
     }
 
@@ -1153,7 +1158,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndLabel(ctx, x, y, w, h, iconid, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1172,7 +1179,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndLabel(ctx, x, y, w, h, iconid, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1198,7 +1207,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndToolButton(ctx, x, y, w, h, flags, state, iconid, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1219,7 +1230,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndToolButton(ctx, x, y, w, h, flags, state, iconid, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1245,7 +1258,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndRadioButton(ctx, x, y, w, h, flags, state, iconid, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1266,7 +1281,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndRadioButton(ctx, x, y, w, h, flags, state, iconid, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1289,7 +1306,8 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(text);
         }
-        return nbndTextFieldTextPosition(ctx, x, y, w, h, iconid, memAddressSafe(text), px, py);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nbndTextFieldTextPosition(ctx, x, y, w, h, iconid, memAddressSafe(text), px, py));
     }
 
     /**
@@ -1307,7 +1325,8 @@ public class Blendish {
         try {
             stack.nUTF8Safe(text, true);
             long textEncoded = text == null ? NULL : stack.getPointerAddress();
-            return nbndTextFieldTextPosition(ctx, x, y, w, h, iconid, textEncoded, px, py);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 5, __start, nbndTextFieldTextPosition(ctx, x, y, w, h, iconid, textEncoded, px, py));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1336,7 +1355,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(text);
         }
+        long __start = FunctionProfiler.start();
         nbndTextField(ctx, x, y, w, h, flags, state, iconid, memAddressSafe(text), cbegin, cend);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1360,7 +1381,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(text, true);
             long textEncoded = text == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndTextField(ctx, x, y, w, h, flags, state, iconid, textEncoded, cbegin, cend);
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1384,7 +1407,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndOptionButton(ctx, x, y, w, h, state, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1403,7 +1428,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndOptionButton(ctx, x, y, w, h, state, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1429,7 +1456,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndChoiceButton(ctx, x, y, w, h, flags, state, iconid, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1450,7 +1479,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndChoiceButton(ctx, x, y, w, h, flags, state, iconid, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1472,7 +1503,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndColorButton(ctx, x, y, w, h, flags, color.address());
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ bndNumberField ] ---
@@ -1496,7 +1529,9 @@ public class Blendish {
             checkNT1Safe(label);
             checkNT1Safe(value);
         }
+        long __start = FunctionProfiler.start();
         nbndNumberField(ctx, x, y, w, h, flags, state, memAddressSafe(label), memAddressSafe(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1519,7 +1554,9 @@ public class Blendish {
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(value, true);
             long valueEncoded = value == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndNumberField(ctx, x, y, w, h, flags, state, labelEncoded, valueEncoded);
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1547,7 +1584,9 @@ public class Blendish {
             checkNT1Safe(label);
             checkNT1Safe(value);
         }
+        long __start = FunctionProfiler.start();
         nbndSlider(ctx, x, y, w, h, flags, state, progress, memAddressSafe(label), memAddressSafe(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1571,7 +1610,9 @@ public class Blendish {
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(value, true);
             long valueEncoded = value == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndSlider(ctx, x, y, w, h, flags, state, progress, labelEncoded, valueEncoded);
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1596,7 +1637,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndScrollBar(ctx, x, y, w, h, state, offset, size);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ bndMenuBackground ] ---
@@ -1614,7 +1657,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndMenuBackground(ctx, x, y, w, h, flags);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ bndMenuLabel ] ---
@@ -1635,7 +1680,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndMenuLabel(ctx, x, y, w, h, iconid, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1654,7 +1701,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndMenuLabel(ctx, x, y, w, h, iconid, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1679,7 +1728,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndMenuItem(ctx, x, y, w, h, state, iconid, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1699,7 +1750,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndMenuItem(ctx, x, y, w, h, state, iconid, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1719,7 +1772,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndTooltipBackground(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ bndNodePort ] ---
@@ -1737,7 +1792,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndNodePort(ctx, x, y, state, color.address());
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ bndNodeWire ] ---
@@ -1763,7 +1820,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndNodeWire(ctx, x0, y0, x1, y1, state0, state1);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ bndColoredNodeWire ] ---
@@ -1781,7 +1840,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndColoredNodeWire(ctx, x0, y0, x1, y1, color0.address(), color1.address());
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ bndNodeBackground ] ---
@@ -1803,7 +1864,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndNodeBackground(ctx, x, y, w, h, state, iconid, memAddressSafe(label), titleColor.address());
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1823,7 +1886,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndNodeBackground(ctx, x, y, w, h, state, iconid, labelEncoded, titleColor.address());
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1843,7 +1908,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndSplitterWidgets(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ bndJoinAreaOverlay ] ---
@@ -1862,7 +1929,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndJoinAreaOverlay(ctx, x, y, w, h, vertical ? 1 : 0, mirror ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ bndLabelWidth ] ---
@@ -1880,7 +1949,8 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
-        return nbndLabelWidth(ctx, iconid, memAddressSafe(label));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nbndLabelWidth(ctx, iconid, memAddressSafe(label)));
     }
 
     /**
@@ -1896,7 +1966,8 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
-            return nbndLabelWidth(ctx, iconid, labelEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 23, __start, nbndLabelWidth(ctx, iconid, labelEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1917,7 +1988,8 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
-        return nbndLabelHeight(ctx, iconid, memAddressSafe(label), width);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nbndLabelHeight(ctx, iconid, memAddressSafe(label), width));
     }
 
     /**
@@ -1933,7 +2005,8 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
-            return nbndLabelHeight(ctx, iconid, labelEncoded, width);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 24, __start, nbndLabelHeight(ctx, iconid, labelEncoded, width));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1947,7 +2020,9 @@ public class Blendish {
     /** Makes color transparent using the default alpha value. */
     @NativeType("NVGcolor")
     public static NVGColor bndTransparent(@NativeType("NVGcolor") NVGColor color, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nbndTransparent(color.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
         return __result;
     }
 
@@ -1963,7 +2038,9 @@ public class Blendish {
      */
     @NativeType("NVGcolor")
     public static NVGColor bndOffsetColor(@NativeType("NVGcolor") NVGColor color, int delta, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nbndOffsetColor(color.address(), delta, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
         return __result;
     }
 
@@ -1981,7 +2058,9 @@ public class Blendish {
         if (CHECKS) {
             check(radiuses, 4);
         }
+        long __start = FunctionProfiler.start();
         nbndSelectCorners(memAddress(radiuses), r, flags);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ bndInnerColors ] ---
@@ -1996,7 +2075,9 @@ public class Blendish {
      * @param flipActive if set and the {@code state} is {@link #BND_ACTIVE ACTIVE}, the upper and lower colors will be swapped
      */
     public static void bndInnerColors(@NativeType("NVGcolor *") NVGColor shade_top, @NativeType("NVGcolor *") NVGColor shade_down, @NativeType("BNDwidgetTheme const *") BNDwidgetTheme theme, @NativeType("BNDwidgetState") int state, @NativeType("int") boolean flipActive) {
+        long __start = FunctionProfiler.start();
         nbndInnerColors(shade_top.address(), shade_down.address(), theme.address(), state, flipActive ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ bndTextColor ] ---
@@ -2011,7 +2092,9 @@ public class Blendish {
      */
     @NativeType("NVGcolor")
     public static NVGColor bndTextColor(@NativeType("BNDwidgetTheme const *") BNDwidgetTheme theme, @NativeType("BNDwidgetState") int state, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nbndTextColor(theme.address(), state, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
         return __result;
     }
 
@@ -2033,7 +2116,9 @@ public class Blendish {
             check(w, 1);
             check(h, 1);
         }
+        long __start = FunctionProfiler.start();
         nbndScrollHandleRect(memAddress(x), memAddress(y), memAddress(w), memAddress(h), offset, size);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ bndRoundedBox ] ---
@@ -2052,7 +2137,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndRoundedBox(ctx, x, y, w, h, cr0, cr1, cr2, cr3);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ bndBackground ] ---
@@ -2069,7 +2156,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndBackground(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ bndBevel ] ---
@@ -2086,7 +2175,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndBevel(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ bndBevelInset ] ---
@@ -2104,7 +2195,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndBevelInset(ctx, x, y, w, h, cr2, cr3);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ bndIcon ] ---
@@ -2122,7 +2215,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndIcon(ctx, x, y, iconid);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ bndDropShadow ] ---
@@ -2140,7 +2235,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndDropShadow(ctx, x, y, w, h, r, feather, alpha);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ bndInnerBox ] ---
@@ -2158,7 +2255,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndInnerBox(ctx, x, y, w, h, cr0, cr1, cr2, cr3, shade_top.address(), shade_down.address());
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ bndOutlineBox ] ---
@@ -2175,7 +2274,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndOutlineBox(ctx, x, y, w, h, cr0, cr1, cr2, cr3, color.address());
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ bndIconLabelValue ] ---
@@ -2199,7 +2300,9 @@ public class Blendish {
             checkNT1Safe(label);
             checkNT1Safe(value);
         }
+        long __start = FunctionProfiler.start();
         nbndIconLabelValue(ctx, x, y, w, h, iconid, color.address(), align, fontsize, memAddressSafe(label), memAddressSafe(value));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2222,7 +2325,9 @@ public class Blendish {
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(value, true);
             long valueEncoded = value == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndIconLabelValue(ctx, x, y, w, h, iconid, color.address(), align, fontsize, labelEncoded, valueEncoded);
+            FunctionProfiler.end(PROFILE_ID + 39, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2246,7 +2351,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndNodeIconLabel(ctx, x, y, w, h, iconid, color.address(), shadowColor.address(), align, fontsize, memAddressSafe(label));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2265,7 +2372,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndNodeIconLabel(ctx, x, y, w, h, iconid, color.address(), shadowColor.address(), align, fontsize, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 40, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2286,7 +2395,8 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
-        return nbndIconLabelTextPosition(ctx, x, y, w, h, iconid, fontsize, memAddressSafe(label), px, py);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, nbndIconLabelTextPosition(ctx, x, y, w, h, iconid, fontsize, memAddressSafe(label), px, py));
     }
 
     /**
@@ -2302,7 +2412,8 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
-            return nbndIconLabelTextPosition(ctx, x, y, w, h, iconid, fontsize, labelEncoded, px, py);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 41, __start, nbndIconLabelTextPosition(ctx, x, y, w, h, iconid, fontsize, labelEncoded, px, py));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2328,7 +2439,9 @@ public class Blendish {
             check(ctx);
             checkNT1Safe(label);
         }
+        long __start = FunctionProfiler.start();
         nbndIconLabelCaret(ctx, x, y, w, h, iconid, color.address(), fontsize, memAddressSafe(label), caretcolor.address(), cbegin, cend);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2349,7 +2462,9 @@ public class Blendish {
         try {
             stack.nUTF8Safe(label, true);
             long labelEncoded = label == null ? NULL : stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nbndIconLabelCaret(ctx, x, y, w, h, iconid, color.address(), fontsize, labelEncoded, caretcolor.address(), cbegin, cend);
+            FunctionProfiler.end(PROFILE_ID + 42, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2369,7 +2484,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndCheck(ctx, ox, oy, color.address());
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ bndArrow ] ---
@@ -2387,7 +2504,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndArrow(ctx, x, y, s, color.address());
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ bndUpDownArrow ] ---
@@ -2404,7 +2523,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndUpDownArrow(ctx, x, y, s, color.address());
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ bndNodeArrowDown ] ---
@@ -2421,7 +2542,9 @@ public class Blendish {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nbndNodeArrowDown(ctx, x, y, s, color.address());
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ bndNodeWireColor ] ---
@@ -2436,7 +2559,9 @@ public class Blendish {
      */
     @NativeType("NVGcolor")
     public static NVGColor bndNodeWireColor(@NativeType("BNDnodeTheme const *") BNDnodeTheme theme, @NativeType("BNDwidgetState") int state, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nbndNodeWireColor(theme.address(), state, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
         return __result;
     }
 
@@ -2448,7 +2573,9 @@ public class Blendish {
         if (CHECKS) {
             check(radiuses, 4);
         }
+        long __start = FunctionProfiler.start();
         nbndSelectCorners(radiuses, r, flags);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** Array version of: {@link #nbndScrollHandleRect} */
@@ -2462,7 +2589,9 @@ public class Blendish {
             check(w, 1);
             check(h, 1);
         }
+        long __start = FunctionProfiler.start();
         nbndScrollHandleRect(x, y, w, h, offset, size);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     public static int BND_ICONID(int x, int y) {
@@ -211,6 +211,23 @@ public class NSVGGradient extends Struct {
         @NativeType("NSVGgradientStop")
         public NSVGGradientStop pstops(int index) { return NSVGGradient.npstops(address(), index); }
 
+        /** Copies the {@code spread} field of the structs between the current position and limit to the specified array. */
+        public NSVGGradient.Buffer getSpread(byte[] dst) { gather(NSVGGradient.SPREAD, dst); return this; }
+        /** Copies the {@code spread} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGGradient.Buffer getSpread(ByteBuffer dst) { gather(NSVGGradient.SPREAD, dst); return this; }
+        /** Copies the {@code fx} field of the structs between the current position and limit to the specified array. */
+        public NSVGGradient.Buffer getFx(float[] dst) { gather(NSVGGradient.FX, dst); return this; }
+        /** Copies the {@code fx} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGGradient.Buffer getFx(FloatBuffer dst) { gather(NSVGGradient.FX, dst); return this; }
+        /** Copies the {@code fy} field of the structs between the current position and limit to the specified array. */
+        public NSVGGradient.Buffer getFy(float[] dst) { gather(NSVGGradient.FY, dst); return this; }
+        /** Copies the {@code fy} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGGradient.Buffer getFy(FloatBuffer dst) { gather(NSVGGradient.FY, dst); return this; }
+        /** Copies the {@code nstops} field of the structs between the current position and limit to the specified array. */
+        public NSVGGradient.Buffer getNstops(int[] dst) { gather(NSVGGradient.NSTOPS, dst); return this; }
+        /** Copies the {@code nstops} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGGradient.Buffer getNstops(IntBuffer dst) { gather(NSVGGradient.NSTOPS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -148,6 +148,15 @@ public class NSVGGradientStop extends Struct {
         /** Returns the value of the {@code offset} field. */
         public float offset() { return NSVGGradientStop.noffset(address()); }
 
+        /** Copies the {@code color} field of the structs between the current position and limit to the specified array. */
+        public NSVGGradientStop.Buffer getColor(int[] dst) { gather(NSVGGradientStop.COLOR, dst); return this; }
+        /** Copies the {@code color} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGGradientStop.Buffer getColor(IntBuffer dst) { gather(NSVGGradientStop.COLOR, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public NSVGGradientStop.Buffer getOffset(float[] dst) { gather(NSVGGradientStop.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGGradientStop.Buffer getOffset(FloatBuffer dst) { gather(NSVGGradientStop.OFFSET, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -166,6 +166,15 @@ public class NSVGImage extends Struct {
         @NativeType("NSVGshape *")
         public NSVGShape shapes() { return NSVGImage.nshapes(address()); }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public NSVGImage.Buffer getWidth(float[] dst) { gather(NSVGImage.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGImage.Buffer getWidth(FloatBuffer dst) { gather(NSVGImage.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public NSVGImage.Buffer getHeight(float[] dst) { gather(NSVGImage.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGImage.Buffer getHeight(FloatBuffer dst) { gather(NSVGImage.HEIGHT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
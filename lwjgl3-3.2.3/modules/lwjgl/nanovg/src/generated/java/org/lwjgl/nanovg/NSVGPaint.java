@@ -166,6 +166,11 @@ public class NSVGPaint extends Struct {
         @NativeType("NSVGgradient *")
         public NSVGGradient gradient() { return NSVGPaint.ngradient(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NSVGPaint.Buffer getType(byte[] dst) { gather(NSVGPaint.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGPaint.Buffer getType(ByteBuffer dst) { gather(NSVGPaint.TYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
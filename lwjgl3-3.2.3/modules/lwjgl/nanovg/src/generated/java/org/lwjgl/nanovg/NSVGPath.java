@@ -203,6 +203,15 @@ public class NSVGPath extends Struct {
         @NativeType("NSVGpath *")
         public NSVGPath next() { return NSVGPath.nnext(address()); }
 
+        /** Copies the {@code npts} field of the structs between the current position and limit to the specified array. */
+        public NSVGPath.Buffer getNpts(int[] dst) { gather(NSVGPath.NPTS, dst); return this; }
+        /** Copies the {@code npts} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGPath.Buffer getNpts(IntBuffer dst) { gather(NSVGPath.NPTS, dst); return this; }
+        /** Copies the {@code closed} field of the structs between the current position and limit to the specified array. */
+        public NSVGPath.Buffer getClosed(byte[] dst) { gather(NSVGPath.CLOSED, dst); return this; }
+        /** Copies the {@code closed} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGPath.Buffer getClosed(ByteBuffer dst) { gather(NSVGPath.CLOSED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -356,6 +356,43 @@ public class NSVGShape extends Struct {
         @NativeType("NSVGshape *")
         public NSVGShape next() { return NSVGShape.nnext(address()); }
 
+        /** Copies the {@code opacity} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getOpacity(float[] dst) { gather(NSVGShape.OPACITY, dst); return this; }
+        /** Copies the {@code opacity} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getOpacity(FloatBuffer dst) { gather(NSVGShape.OPACITY, dst); return this; }
+        /** Copies the {@code strokeWidth} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getStrokeWidth(float[] dst) { gather(NSVGShape.STROKEWIDTH, dst); return this; }
+        /** Copies the {@code strokeWidth} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getStrokeWidth(FloatBuffer dst) { gather(NSVGShape.STROKEWIDTH, dst); return this; }
+        /** Copies the {@code strokeDashOffset} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getStrokeDashOffset(float[] dst) { gather(NSVGShape.STROKEDASHOFFSET, dst); return this; }
+        /** Copies the {@code strokeDashOffset} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getStrokeDashOffset(FloatBuffer dst) { gather(NSVGShape.STROKEDASHOFFSET, dst); return this; }
+        /** Copies the {@code strokeDashCount} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getStrokeDashCount(byte[] dst) { gather(NSVGShape.STROKEDASHCOUNT, dst); return this; }
+        /** Copies the {@code strokeDashCount} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getStrokeDashCount(ByteBuffer dst) { gather(NSVGShape.STROKEDASHCOUNT, dst); return this; }
+        /** Copies the {@code strokeLineJoin} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getStrokeLineJoin(byte[] dst) { gather(NSVGShape.STROKELINEJOIN, dst); return this; }
+        /** Copies the {@code strokeLineJoin} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getStrokeLineJoin(ByteBuffer dst) { gather(NSVGShape.STROKELINEJOIN, dst); return this; }
+        /** Copies the {@code strokeLineCap} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getStrokeLineCap(byte[] dst) { gather(NSVGShape.STROKELINECAP, dst); return this; }
+        /** Copies the {@code strokeLineCap} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getStrokeLineCap(ByteBuffer dst) { gather(NSVGShape.STROKELINECAP, dst); return this; }
+        /** Copies the {@code miterLimit} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getMiterLimit(float[] dst) { gather(NSVGShape.MITERLIMIT, dst); return this; }
+        /** Copies the {@code miterLimit} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getMiterLimit(FloatBuffer dst) { gather(NSVGShape.MITERLIMIT, dst); return this; }
+        /** Copies the {@code fillRule} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getFillRule(byte[] dst) { gather(NSVGShape.FILLRULE, dst); return this; }
+        /** Copies the {@code fillRule} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getFillRule(ByteBuffer dst) { gather(NSVGShape.FILLRULE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public NSVGShape.Buffer getFlags(byte[] dst) { gather(NSVGShape.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public NSVGShape.Buffer getFlags(ByteBuffer dst) { gather(NSVGShape.FLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -196,6 +196,24 @@ public class NVGGlyphPosition extends Struct implements NativeResource {
         return wrap(NVGGlyphPosition.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NVGGlyphPosition} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NVGGlyphPosition malloc(MemoryArena arena) {
+        return wrap(NVGGlyphPosition.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NVGGlyphPosition} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NVGGlyphPosition calloc(MemoryArena arena) {
+        return wrap(NVGGlyphPosition.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NVGGlyphPosition.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -234,6 +252,26 @@ public class NVGGlyphPosition extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NVGGlyphPosition.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NVGGlyphPosition.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NVGGlyphPosition.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NVGGlyphPosition.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #str}. */
@@ -293,6 +331,19 @@ public class NVGGlyphPosition extends Struct implements NativeResource {
         /** Returns the value of the {@code maxx} field. */
         public float maxx() { return NVGGlyphPosition.nmaxx(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public NVGGlyphPosition.Buffer getX(float[] dst) { gather(NVGGlyphPosition.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public NVGGlyphPosition.Buffer getX(FloatBuffer dst) { gather(NVGGlyphPosition.X, dst); return this; }
+        /** Copies the {@code minx} field of the structs between the current position and limit to the specified array. */
+        public NVGGlyphPosition.Buffer getMinx(float[] dst) { gather(NVGGlyphPosition.MINX, dst); return this; }
+        /** Copies the {@code minx} field of the structs between the current position and limit to the specified buffer. */
+        public NVGGlyphPosition.Buffer getMinx(FloatBuffer dst) { gather(NVGGlyphPosition.MINX, dst); return this; }
+        /** Copies the {@code maxx} field of the structs between the current position and limit to the specified array. */
+        public NVGGlyphPosition.Buffer getMaxx(float[] dst) { gather(NVGGlyphPosition.MAXX, dst); return this; }
+        /** Copies the {@code maxx} field of the structs between the current position and limit to the specified buffer. */
+        public NVGGlyphPosition.Buffer getMaxx(FloatBuffer dst) { gather(NVGGlyphPosition.MAXX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
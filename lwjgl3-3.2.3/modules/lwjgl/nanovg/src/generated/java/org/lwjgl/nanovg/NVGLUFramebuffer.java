@@ -183,6 +183,23 @@ public class NVGLUFramebuffer extends Struct {
         /** Returns the value of the {@code image} field. */
         public int image() { return NVGLUFramebuffer.nimage(address()); }
 
+        /** Copies the {@code fbo} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebuffer.Buffer getFbo(int[] dst) { gather(NVGLUFramebuffer.FBO, dst); return this; }
+        /** Copies the {@code fbo} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebuffer.Buffer getFbo(IntBuffer dst) { gather(NVGLUFramebuffer.FBO, dst); return this; }
+        /** Copies the {@code rbo} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebuffer.Buffer getRbo(int[] dst) { gather(NVGLUFramebuffer.RBO, dst); return this; }
+        /** Copies the {@code rbo} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebuffer.Buffer getRbo(IntBuffer dst) { gather(NVGLUFramebuffer.RBO, dst); return this; }
+        /** Copies the {@code texture} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebuffer.Buffer getTexture(int[] dst) { gather(NVGLUFramebuffer.TEXTURE, dst); return this; }
+        /** Copies the {@code texture} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebuffer.Buffer getTexture(IntBuffer dst) { gather(NVGLUFramebuffer.TEXTURE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebuffer.Buffer getImage(int[] dst) { gather(NVGLUFramebuffer.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebuffer.Buffer getImage(IntBuffer dst) { gather(NVGLUFramebuffer.IMAGE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
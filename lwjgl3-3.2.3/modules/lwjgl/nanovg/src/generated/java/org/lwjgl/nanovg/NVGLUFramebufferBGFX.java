@@ -174,6 +174,19 @@ public class NVGLUFramebufferBGFX extends Struct {
         @NativeType("bgfx_view_id_t")
         public short viewId() { return NVGLUFramebufferBGFX.nviewId(address()); }
 
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebufferBGFX.Buffer getHandle(short[] dst) { gather(NVGLUFramebufferBGFX.HANDLE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebufferBGFX.Buffer getHandle(ShortBuffer dst) { gather(NVGLUFramebufferBGFX.HANDLE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebufferBGFX.Buffer getImage(int[] dst) { gather(NVGLUFramebufferBGFX.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebufferBGFX.Buffer getImage(IntBuffer dst) { gather(NVGLUFramebufferBGFX.IMAGE, dst); return this; }
+        /** Copies the {@code viewId} field of the structs between the current position and limit to the specified array. */
+        public NVGLUFramebufferBGFX.Buffer getViewId(short[] dst) { gather(NVGLUFramebufferBGFX.VIEWID, dst); return this; }
+        /** Copies the {@code viewId} field of the structs between the current position and limit to the specified buffer. */
+        public NVGLUFramebufferBGFX.Buffer getViewId(ShortBuffer dst) { gather(NVGLUFramebufferBGFX.VIEWID, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -281,6 +281,24 @@ public class NVGPaint extends Struct implements NativeResource {
         return wrap(NVGPaint.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NVGPaint} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NVGPaint malloc(MemoryArena arena) {
+        return wrap(NVGPaint.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NVGPaint} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NVGPaint calloc(MemoryArena arena) {
+        return wrap(NVGPaint.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NVGPaint.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -319,6 +337,26 @@ public class NVGPaint extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NVGPaint.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NVGPaint.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NVGPaint.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NVGPaint.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #xform}. */
@@ -457,6 +495,32 @@ public class NVGPaint extends Struct implements NativeResource {
         /** Sets the specified value to the {@code image} field. */
         public NVGPaint.Buffer image(int value) { NVGPaint.nimage(address(), value); return this; }
 
+        /** Copies the {@code radius} field of the structs between the current position and limit to the specified array. */
+        public NVGPaint.Buffer getRadius(float[] dst) { gather(NVGPaint.RADIUS, dst); return this; }
+        /** Copies the {@code radius} field of the structs between the current position and limit to the specified buffer. */
+        public NVGPaint.Buffer getRadius(FloatBuffer dst) { gather(NVGPaint.RADIUS, dst); return this; }
+        /** Copies the {@code feather} field of the structs between the current position and limit to the specified array. */
+        public NVGPaint.Buffer getFeather(float[] dst) { gather(NVGPaint.FEATHER, dst); return this; }
+        /** Copies the {@code feather} field of the structs between the current position and limit to the specified buffer. */
+        public NVGPaint.Buffer getFeather(FloatBuffer dst) { gather(NVGPaint.FEATHER, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public NVGPaint.Buffer getImage(int[] dst) { gather(NVGPaint.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public NVGPaint.Buffer getImage(IntBuffer dst) { gather(NVGPaint.IMAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code radius} field of the structs between the current position and limit. */
+        public NVGPaint.Buffer putRadius(float[] src) { scatter(NVGPaint.RADIUS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code radius} field of the structs between the current position and limit. */
+        public NVGPaint.Buffer putRadius(FloatBuffer src) { scatter(NVGPaint.RADIUS, src); return this; }
+        /** Copies the values in the specified array to the {@code feather} field of the structs between the current position and limit. */
+        public NVGPaint.Buffer putFeather(float[] src) { scatter(NVGPaint.FEATHER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code feather} field of the structs between the current position and limit. */
+        public NVGPaint.Buffer putFeather(FloatBuffer src) { scatter(NVGPaint.FEATHER, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public NVGPaint.Buffer putImage(int[] src) { scatter(NVGPaint.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public NVGPaint.Buffer putImage(IntBuffer src) { scatter(NVGPaint.IMAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -212,6 +212,24 @@ public class NVGTextRow extends Struct implements NativeResource {
         return wrap(NVGTextRow.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NVGTextRow} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NVGTextRow malloc(MemoryArena arena) {
+        return wrap(NVGTextRow.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NVGTextRow} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NVGTextRow calloc(MemoryArena arena) {
+        return wrap(NVGTextRow.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NVGTextRow.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -250,6 +268,26 @@ public class NVGTextRow extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NVGTextRow.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NVGTextRow.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NVGTextRow.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NVGTextRow.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #start}. */
@@ -319,6 +357,19 @@ public class NVGTextRow extends Struct implements NativeResource {
         /** Returns the value of the {@code maxx} field. */
         public float maxx() { return NVGTextRow.nmaxx(address()); }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public NVGTextRow.Buffer getWidth(float[] dst) { gather(NVGTextRow.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public NVGTextRow.Buffer getWidth(FloatBuffer dst) { gather(NVGTextRow.WIDTH, dst); return this; }
+        /** Copies the {@code minx} field of the structs between the current position and limit to the specified array. */
+        public NVGTextRow.Buffer getMinx(float[] dst) { gather(NVGTextRow.MINX, dst); return this; }
+        /** Copies the {@code minx} field of the structs between the current position and limit to the specified buffer. */
+        public NVGTextRow.Buffer getMinx(FloatBuffer dst) { gather(NVGTextRow.MINX, dst); return this; }
+        /** Copies the {@code maxx} field of the structs between the current position and limit to the specified array. */
+        public NVGTextRow.Buffer getMaxx(float[] dst) { gather(NVGTextRow.MAXX, dst); return this; }
+        /** Copies the {@code maxx} field of the structs between the current position and limit to the specified buffer. */
+        public NVGTextRow.Buffer getMaxx(FloatBuffer dst) { gather(NVGTextRow.MAXX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
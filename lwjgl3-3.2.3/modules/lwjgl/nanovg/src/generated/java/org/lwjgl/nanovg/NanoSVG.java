@@ -117,6 +117,8 @@ public class NanoSVG {
     /** NSVGflags */
     public static final int NSVG_FLAGS_VISIBLE = 0x01;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NanoSVG.class, "nsvgParseFromFile,nsvgParse,nsvgDuplicatePath,nsvgDelete,nsvgRasterize,nsvgDeleteRasterizer");
+
     static { LibNanoVG.initialize(); }
 
     protected NanoSVG() {
@@ -136,7 +138,8 @@ public class NanoSVG {
             checkNT1(filename);
             checkNT1(units);
         }
-        long __result = nnsvgParseFromFile(memAddress(filename), memAddress(units), dpi);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nnsvgParseFromFile(memAddress(filename), memAddress(units), dpi));
         return NSVGImage.createSafe(__result);
     }
 
@@ -150,7 +153,8 @@ public class NanoSVG {
             long filenameEncoded = stack.getPointerAddress();
             stack.nASCII(units, true);
             long unitsEncoded = stack.getPointerAddress();
-            long __result = nnsvgParseFromFile(filenameEncoded, unitsEncoded, dpi);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID, __start, nnsvgParseFromFile(filenameEncoded, unitsEncoded, dpi));
             return NSVGImage.createSafe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -174,7 +178,8 @@ public class NanoSVG {
             checkNT1(input);
             checkNT1(units);
         }
-        long __result = nnsvgParse(memAddress(input), memAddress(units), dpi);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nnsvgParse(memAddress(input), memAddress(units), dpi));
         return NSVGImage.createSafe(__result);
     }
 
@@ -192,7 +197,8 @@ public class NanoSVG {
             long inputEncoded = stack.getPointerAddress();
             stack.nASCII(units, true);
             long unitsEncoded = stack.getPointerAddress();
-            long __result = nnsvgParse(inputEncoded, unitsEncoded, dpi);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nnsvgParse(inputEncoded, unitsEncoded, dpi));
             return NSVGImage.createSafe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -208,7 +214,8 @@ public class NanoSVG {
     @Nullable
     @NativeType("NSVGpath *")
     public static NSVGPath nsvgDuplicatePath(@NativeType("NSVGpath *") NSVGPath p) {
-        long __result = nnsvgDuplicatePath(p.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, nnsvgDuplicatePath(p.address()));
         return NSVGPath.createSafe(__result);
     }
 
@@ -219,7 +226,9 @@ public class NanoSVG {
 
     /** Deletes an image. */
     public static void nsvgDelete(@NativeType("NSVGimage *") NSVGImage image) {
+        long __start = FunctionProfiler.start();
         nnsvgDelete(image.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ nsvgCreateRasterizer ] ---
@@ -251,7 +260,9 @@ public class NanoSVG {
             check(r);
             check(dst, h * stride);
         }
+        long __start = FunctionProfiler.start();
         nnsvgRasterize(r, image.address(), tx, ty, scale, memAddress(dst), w, h, stride);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ nsvgDeleteRasterizer ] ---
@@ -268,7 +279,9 @@ public class NanoSVG {
         if (CHECKS) {
             check(rasterizer);
         }
+        long __start = FunctionProfiler.start();
         nnsvgDeleteRasterizer(rasterizer);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -270,6 +270,8 @@ public class NanoVG {
         NVG_IMAGE_PREMULTIPLIED    = 1<<4,
         NVG_IMAGE_NEAREST          = 1<<5;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NanoVG.class, "nvgBeginFrame,nvgCancelFrame,nvgEndFrame,nvgGlobalCompositeOperation,nvgGlobalCompositeBlendFunc,nvgGlobalCompositeBlendFuncSeparate,nvgRGB,nvgRGBf,nvgRGBA,nvgRGBAf,nvgLerpRGBA,nvgTransRGBA,nvgTransRGBAf,nvgHSL,nvgHSLA,nvgSave,nvgRestore,nvgReset,nvgShapeAntiAlias,nvgStrokeColor,nvgStrokePaint,nvgFillColor,nvgFillPaint,nvgMiterLimit,nvgStrokeWidth,nvgLineCap,nvgLineJoin,nvgGlobalAlpha,nvgResetTransform,nvgTransform,nvgTranslate,nvgRotate,nvgSkewX,nvgSkewY,nvgScale,nvgCurrentTransform,nvgTransformIdentity,nvgTransformTranslate,nvgTransformScale,nvgTransformRotate,nvgTransformSkewX,nvgTransformSkewY,nvgTransformMultiply,nvgTransformPremultiply,nvgTransformInverse,nvgTransformPoint,nvgCreateImage,nvgCreateImageMem,nvgCreateImageRGBA,nvgUpdateImage,nvgImageSize,nvgDeleteImage,nvgLinearGradient,nvgBoxGradient,nvgRadialGradient,nvgImagePattern,nvgScissor,nvgIntersectScissor,nvgResetScissor,nvgBeginPath,nvgMoveTo,nvgLineTo,nvgBezierTo,nvgQuadTo,nvgArcTo,nvgClosePath,nvgPathWinding,nvgArc,nvgRect,nvgRoundedRect,nvgRoundedRectVarying,nvgEllipse,nvgCircle,nvgFill,nvgStroke,nvgCreateFont,nvgCreateFontMem,nvgFindFont,nvgAddFallbackFontId,nvgAddFallbackFont,nvgFontSize,nvgFontBlur,nvgTextLetterSpacing,nvgTextLineHeight,nvgTextAlign,nvgFontFaceId,nvgFontFace,nvgText,nvgTextBox,nvgTextBounds,nvgTextBoxBounds,nvgTextGlyphPositions,nvgTextMetrics,nvgTextBreakLines");
+
     static { LibNanoVG.initialize(); }
 
     protected NanoVG() {
@@ -298,7 +300,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgBeginFrame(ctx, windowWidth, windowHeight, devicePixelRatio);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ nvgCancelFrame ] ---
@@ -315,7 +319,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgCancelFrame(ctx);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ nvgEndFrame ] ---
@@ -332,7 +338,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgEndFrame(ctx);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ nvgGlobalCompositeOperation ] ---
@@ -350,7 +358,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgGlobalCompositeOperation(ctx, op);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ nvgGlobalCompositeBlendFunc ] ---
@@ -369,7 +379,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgGlobalCompositeBlendFunc(ctx, sfactor, dfactor);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ nvgGlobalCompositeBlendFuncSeparate ] ---
@@ -390,7 +402,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgGlobalCompositeBlendFuncSeparate(ctx, srcRGB, dstRGB, srcAlpha, dstAlpha);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ nvgRGB ] ---
@@ -407,7 +421,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgRGB(@NativeType("unsigned char") byte r, @NativeType("unsigned char") byte g, @NativeType("unsigned char") byte b, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgRGB(r, g, b, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
         return __result;
     }
 
@@ -425,7 +441,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgRGBf(float r, float g, float b, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgRGBf(r, g, b, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
         return __result;
     }
 
@@ -444,7 +462,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgRGBA(@NativeType("unsigned char") byte r, @NativeType("unsigned char") byte g, @NativeType("unsigned char") byte b, @NativeType("unsigned char") byte a, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgRGBA(r, g, b, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
         return __result;
     }
 
@@ -463,7 +483,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgRGBAf(float r, float g, float b, float a, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgRGBAf(r, g, b, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
         return __result;
     }
 
@@ -481,7 +503,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgLerpRGBA(@NativeType("NVGcolor") NVGColor c0, @NativeType("NVGcolor") NVGColor c1, float u, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgLerpRGBA(c0.address(), c1.address(), u, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
         return __result;
     }
 
@@ -498,7 +522,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgTransRGBA(@NativeType("NVGcolor") NVGColor c0, @NativeType("unsigned char") byte a, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgTransRGBA(c0.address(), a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
         return __result;
     }
 
@@ -515,7 +541,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgTransRGBAf(@NativeType("NVGcolor") NVGColor c0, float a, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgTransRGBAf(c0.address(), a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
         return __result;
     }
 
@@ -535,7 +563,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgHSL(float h, float s, float l, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgHSL(h, s, l, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
         return __result;
     }
 
@@ -556,7 +586,9 @@ public class NanoVG {
      */
     @NativeType("NVGcolor")
     public static NVGColor nvgHSLA(float h, float s, float l, @NativeType("unsigned char") byte a, @NativeType("NVGcolor") NVGColor __result) {
+        long __start = FunctionProfiler.start();
         nnvgHSLA(h, s, l, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
         return __result;
     }
 
@@ -574,7 +606,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgSave(ctx);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ nvgRestore ] ---
@@ -591,7 +625,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgRestore(ctx);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ nvgReset ] ---
@@ -608,7 +644,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgReset(ctx);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ nvgShapeAntiAlias ] ---
@@ -626,7 +664,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgShapeAntiAlias(ctx, enabled ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ nvgStrokeColor ] ---
@@ -644,7 +684,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgStrokeColor(ctx, color.address());
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ nvgStrokePaint ] ---
@@ -662,7 +704,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgStrokePaint(ctx, paint.address());
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ nvgFillColor ] ---
@@ -680,7 +724,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgFillColor(ctx, color.address());
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ nvgFillPaint ] ---
@@ -698,7 +744,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgFillPaint(ctx, paint.address());
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ nvgMiterLimit ] ---
@@ -716,7 +764,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgMiterLimit(ctx, limit);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ nvgStrokeWidth ] ---
@@ -734,7 +784,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgStrokeWidth(ctx, size);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ nvgLineCap ] ---
@@ -754,7 +806,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgLineCap(ctx, cap);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ nvgLineJoin ] ---
@@ -774,7 +828,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgLineJoin(ctx, join);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ nvgGlobalAlpha ] ---
@@ -794,7 +850,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgGlobalAlpha(ctx, alpha);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ nvgResetTransform ] ---
@@ -811,7 +869,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgResetTransform(ctx);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ nvgTransform ] ---
@@ -839,7 +899,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransform(ctx, a, b, c, d, e, f);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ nvgTranslate ] ---
@@ -858,7 +920,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgTranslate(ctx, x, y);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ nvgRotate ] ---
@@ -876,7 +940,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgRotate(ctx, angle);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ nvgSkewX ] ---
@@ -894,7 +960,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgSkewX(ctx, angle);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ nvgSkewY ] ---
@@ -912,7 +980,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgSkewY(ctx, angle);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ nvgScale ] ---
@@ -931,7 +1001,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgScale(ctx, x, y);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ nvgCurrentTransform ] ---
@@ -957,7 +1029,9 @@ public class NanoVG {
             check(ctx);
             check(xform, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgCurrentTransform(ctx, memAddress(xform));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ nvgTransformIdentity ] ---
@@ -974,7 +1048,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformIdentity(memAddress(dst));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ nvgTransformTranslate ] ---
@@ -993,7 +1069,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformTranslate(memAddress(dst), tx, ty);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ nvgTransformScale ] ---
@@ -1012,7 +1090,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformScale(memAddress(dst), sx, sy);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ nvgTransformRotate ] ---
@@ -1030,7 +1110,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformRotate(memAddress(dst), a);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ nvgTransformSkewX ] ---
@@ -1048,7 +1130,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformSkewX(memAddress(dst), a);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ nvgTransformSkewY ] ---
@@ -1066,7 +1150,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformSkewY(memAddress(dst), a);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ nvgTransformMultiply ] ---
@@ -1085,7 +1171,9 @@ public class NanoVG {
             check(dst, 6);
             check(src, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformMultiply(memAddress(dst), memAddress(src));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ nvgTransformPremultiply ] ---
@@ -1104,7 +1192,9 @@ public class NanoVG {
             check(dst, 6);
             check(src, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformPremultiply(memAddress(dst), memAddress(src));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ nvgTransformInverse ] ---
@@ -1126,7 +1216,8 @@ public class NanoVG {
             check(dst, 6);
             check(src, 6);
         }
-        return nnvgTransformInverse(memAddress(dst), memAddress(src)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nnvgTransformInverse(memAddress(dst), memAddress(src))) != 0;
     }
 
     // --- [ nvgTransformPoint ] ---
@@ -1149,7 +1240,9 @@ public class NanoVG {
             check(dsty, 1);
             check(xform, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformPoint(memAddress(dstx), memAddress(dsty), memAddress(xform), srcx, srcy);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ nvgDegToRad ] ---
@@ -1189,7 +1282,8 @@ public class NanoVG {
             check(ctx);
             checkNT1(filename);
         }
-        return nnvgCreateImage(ctx, memAddress(filename), imageFlags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, nnvgCreateImage(ctx, memAddress(filename), imageFlags));
     }
 
     /**
@@ -1209,7 +1303,8 @@ public class NanoVG {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nnvgCreateImage(ctx, filenameEncoded, imageFlags);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 46, __start, nnvgCreateImage(ctx, filenameEncoded, imageFlags));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1237,7 +1332,8 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvgCreateImageMem(ctx, imageFlags, memAddress(data), data.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, nnvgCreateImageMem(ctx, imageFlags, memAddress(data), data.remaining()));
     }
 
     // --- [ nvgCreateImageRGBA ] ---
@@ -1261,7 +1357,8 @@ public class NanoVG {
             check(ctx);
             check(data, w * h * 4);
         }
-        return nnvgCreateImageRGBA(ctx, w, h, imageFlags, memAddress(data));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, nnvgCreateImageRGBA(ctx, w, h, imageFlags, memAddress(data)));
     }
 
     // --- [ nvgUpdateImage ] ---
@@ -1280,7 +1377,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgUpdateImage(ctx, image, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ nvgImageSize ] ---
@@ -1302,7 +1401,9 @@ public class NanoVG {
             check(w, 1);
             check(h, 1);
         }
+        long __start = FunctionProfiler.start();
         nnvgImageSize(ctx, image, memAddress(w), memAddress(h));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ nvgDeleteImage ] ---
@@ -1320,7 +1421,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgDeleteImage(ctx, image);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ nvgLinearGradient ] ---
@@ -1346,7 +1449,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgLinearGradient(ctx, sx, sy, ex, ey, icol.address(), ocol.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
         return __result;
     }
 
@@ -1375,7 +1480,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgBoxGradient(ctx, x, y, w, h, r, f, icol.address(), ocol.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
         return __result;
     }
 
@@ -1402,7 +1509,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgRadialGradient(ctx, cx, cy, inr, outr, icol.address(), ocol.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
         return __result;
     }
 
@@ -1430,7 +1539,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgImagePattern(ctx, ox, oy, ex, ey, angle, image, alpha, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
         return __result;
     }
 
@@ -1454,7 +1565,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgScissor(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ nvgIntersectScissor ] ---
@@ -1480,7 +1593,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgIntersectScissor(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ nvgResetScissor ] ---
@@ -1497,7 +1612,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgResetScissor(ctx);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     // --- [ nvgBeginPath ] ---
@@ -1514,7 +1631,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgBeginPath(ctx);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     // --- [ nvgMoveTo ] ---
@@ -1533,7 +1652,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgMoveTo(ctx, x, y);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ nvgLineTo ] ---
@@ -1552,7 +1673,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgLineTo(ctx, x, y);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ nvgBezierTo ] ---
@@ -1575,7 +1698,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgBezierTo(ctx, c1x, c1y, c2x, c2y, x, y);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     // --- [ nvgQuadTo ] ---
@@ -1596,7 +1721,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgQuadTo(ctx, cx, cy, x, y);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ nvgArcTo ] ---
@@ -1618,7 +1745,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgArcTo(ctx, x1, y1, x2, y2, radius);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ nvgClosePath ] ---
@@ -1635,7 +1764,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgClosePath(ctx);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ nvgPathWinding ] ---
@@ -1653,7 +1784,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgPathWinding(ctx, dir);
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     // --- [ nvgArc ] ---
@@ -1676,7 +1809,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgArc(ctx, cx, cy, r, a0, a1, dir);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ nvgRect ] ---
@@ -1697,7 +1832,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgRect(ctx, x, y, w, h);
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     // --- [ nvgRoundedRect ] ---
@@ -1719,7 +1856,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgRoundedRect(ctx, x, y, w, h, r);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     // --- [ nvgRoundedRectVarying ] ---
@@ -1744,7 +1883,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgRoundedRectVarying(ctx, x, y, w, h, radTopLeft, radTopRight, radBottomRight, radBottomLeft);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     // --- [ nvgEllipse ] ---
@@ -1765,7 +1906,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgEllipse(ctx, cx, cy, rx, ry);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     // --- [ nvgCircle ] ---
@@ -1785,7 +1928,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgCircle(ctx, cx, cy, r);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     // --- [ nvgFill ] ---
@@ -1802,7 +1947,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgFill(ctx);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     // --- [ nvgStroke ] ---
@@ -1819,7 +1966,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgStroke(ctx);
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     // --- [ nvgCreateFont ] ---
@@ -1842,7 +1991,8 @@ public class NanoVG {
             checkNT1(name);
             checkNT1(filename);
         }
-        return nnvgCreateFont(ctx, memAddress(name), memAddress(filename));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 75, __start, nnvgCreateFont(ctx, memAddress(name), memAddress(filename)));
     }
 
     /**
@@ -1864,7 +2014,8 @@ public class NanoVG {
             long nameEncoded = stack.getPointerAddress();
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nnvgCreateFont(ctx, nameEncoded, filenameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 75, __start, nnvgCreateFont(ctx, nameEncoded, filenameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1896,7 +2047,8 @@ public class NanoVG {
             check(ctx);
             checkNT1(name);
         }
-        return nnvgCreateFontMem(ctx, memAddress(name), memAddress(data), data.remaining(), freeData);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, nnvgCreateFontMem(ctx, memAddress(name), memAddress(data), data.remaining(), freeData));
     }
 
     /**
@@ -1919,7 +2071,8 @@ public class NanoVG {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnvgCreateFontMem(ctx, nameEncoded, memAddress(data), data.remaining(), freeData);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 76, __start, nnvgCreateFontMem(ctx, nameEncoded, memAddress(data), data.remaining(), freeData));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1941,7 +2094,8 @@ public class NanoVG {
             check(ctx);
             checkNT1(name);
         }
-        return nnvgFindFont(ctx, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, nnvgFindFont(ctx, memAddress(name)));
     }
 
     /**
@@ -1958,7 +2112,8 @@ public class NanoVG {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnvgFindFont(ctx, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 77, __start, nnvgFindFont(ctx, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1978,7 +2133,8 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvgAddFallbackFontId(ctx, baseFont, fallbackFont);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, nnvgAddFallbackFontId(ctx, baseFont, fallbackFont));
     }
 
     // --- [ nvgAddFallbackFont ] ---
@@ -1997,7 +2153,8 @@ public class NanoVG {
             checkNT1(baseFont);
             checkNT1(fallbackFont);
         }
-        return nnvgAddFallbackFont(ctx, memAddress(baseFont), memAddress(fallbackFont));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, nnvgAddFallbackFont(ctx, memAddress(baseFont), memAddress(fallbackFont)));
     }
 
     /**
@@ -2015,7 +2172,8 @@ public class NanoVG {
             long baseFontEncoded = stack.getPointerAddress();
             stack.nASCII(fallbackFont, true);
             long fallbackFontEncoded = stack.getPointerAddress();
-            return nnvgAddFallbackFont(ctx, baseFontEncoded, fallbackFontEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 79, __start, nnvgAddFallbackFont(ctx, baseFontEncoded, fallbackFontEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2036,7 +2194,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgFontSize(ctx, size);
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     // --- [ nvgFontBlur ] ---
@@ -2054,7 +2214,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgFontBlur(ctx, blur);
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     // --- [ nvgTextLetterSpacing ] ---
@@ -2072,7 +2234,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextLetterSpacing(ctx, spacing);
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
     }
 
     // --- [ nvgTextLineHeight ] ---
@@ -2090,7 +2254,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextLineHeight(ctx, lineHeight);
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     // --- [ nvgTextAlign ] ---
@@ -2108,7 +2274,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextAlign(ctx, align);
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     // --- [ nvgFontFaceId ] ---
@@ -2126,7 +2294,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgFontFaceId(ctx, font);
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     // --- [ nvgFontFace ] ---
@@ -2145,7 +2315,9 @@ public class NanoVG {
             check(ctx);
             checkNT1(font);
         }
+        long __start = FunctionProfiler.start();
         nnvgFontFace(ctx, memAddress(font));
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     /**
@@ -2162,7 +2334,9 @@ public class NanoVG {
         try {
             stack.nASCII(font, true);
             long fontEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnvgFontFace(ctx, fontEncoded);
+            FunctionProfiler.end(PROFILE_ID + 86, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2189,7 +2363,8 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvgText(ctx, x, y, memAddress(string), memAddress(string) + string.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 87, __start, nnvgText(ctx, x, y, memAddress(string), memAddress(string) + string.remaining()));
     }
 
     /**
@@ -2208,7 +2383,8 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
-            return nnvgText(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 87, __start, nnvgText(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2240,7 +2416,9 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextBox(ctx, x, y, breakRowWidth, memAddress(string), memAddress(string) + string.remaining());
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     /**
@@ -2264,7 +2442,9 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnvgTextBox(ctx, x, y, breakRowWidth, stringEncoded, stringEncoded + stringEncodedLength);
+            FunctionProfiler.end(PROFILE_ID + 88, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2300,7 +2480,8 @@ public class NanoVG {
             check(ctx);
             checkSafe(bounds, 4);
         }
-        return nnvgTextBounds(ctx, x, y, memAddress(string), memAddress(string) + string.remaining(), memAddressSafe(bounds));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, nnvgTextBounds(ctx, x, y, memAddress(string), memAddress(string) + string.remaining(), memAddressSafe(bounds)));
     }
 
     /**
@@ -2328,7 +2509,8 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
-            return nnvgTextBounds(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength, memAddressSafe(bounds));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 89, __start, nnvgTextBounds(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength, memAddressSafe(bounds)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2363,7 +2545,9 @@ public class NanoVG {
             check(ctx);
             checkSafe(bounds, 4);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextBoxBounds(ctx, x, y, breakRowWidth, memAddress(string), memAddress(string) + string.remaining(), memAddressSafe(bounds));
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     /**
@@ -2390,7 +2574,9 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnvgTextBoxBounds(ctx, x, y, breakRowWidth, stringEncoded, stringEncoded + stringEncodedLength, memAddressSafe(bounds));
+            FunctionProfiler.end(PROFILE_ID + 90, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2421,7 +2607,8 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvgTextGlyphPositions(ctx, x, y, memAddress(string), memAddress(string) + string.remaining(), positions.address(), positions.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, nnvgTextGlyphPositions(ctx, x, y, memAddress(string), memAddress(string) + string.remaining(), positions.address(), positions.remaining()));
     }
 
     /**
@@ -2443,7 +2630,8 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
-            return nnvgTextGlyphPositions(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength, positions.address(), positions.remaining());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 91, __start, nnvgTextGlyphPositions(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength, positions.address(), positions.remaining()));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2471,7 +2659,9 @@ public class NanoVG {
             checkSafe(descender, 1);
             checkSafe(lineh, 1);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextMetrics(ctx, memAddressSafe(ascender), memAddressSafe(descender), memAddressSafe(lineh));
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     // --- [ nvgTextBreakLines ] ---
@@ -2499,7 +2689,8 @@ public class NanoVG {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvgTextBreakLines(ctx, memAddress(string), memAddress(string) + string.remaining(), breakRowWidth, rows.address(), rows.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, nnvgTextBreakLines(ctx, memAddress(string), memAddress(string) + string.remaining(), breakRowWidth, rows.address(), rows.remaining()));
     }
 
     /**
@@ -2521,7 +2712,8 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
-            return nnvgTextBreakLines(ctx, stringEncoded, stringEncoded + stringEncodedLength, breakRowWidth, rows.address(), rows.remaining());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 93, __start, nnvgTextBreakLines(ctx, stringEncoded, stringEncoded + stringEncodedLength, breakRowWidth, rows.address(), rows.remaining()));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2557,7 +2749,9 @@ public class NanoVG {
             check(ctx);
             check(xform, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgCurrentTransform(ctx, xform);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** Array version of: {@link #nnvgTransformIdentity} */
@@ -2568,7 +2762,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformIdentity(dst);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /** Array version of: {@link #nnvgTransformTranslate} */
@@ -2579,7 +2775,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformTranslate(dst, tx, ty);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #nnvgTransformScale} */
@@ -2590,7 +2788,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformScale(dst, sx, sy);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** Array version of: {@link #nnvgTransformRotate} */
@@ -2601,7 +2801,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformRotate(dst, a);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #nnvgTransformSkewX} */
@@ -2612,7 +2814,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformSkewX(dst, a);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /** Array version of: {@link #nnvgTransformSkewY} */
@@ -2623,7 +2827,9 @@ public class NanoVG {
         if (CHECKS) {
             check(dst, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformSkewY(dst, a);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /** Array version of: {@link #nnvgTransformMultiply} */
@@ -2635,7 +2841,9 @@ public class NanoVG {
             check(dst, 6);
             check(src, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformMultiply(dst, src);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** Array version of: {@link #nnvgTransformPremultiply} */
@@ -2647,7 +2855,9 @@ public class NanoVG {
             check(dst, 6);
             check(src, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformPremultiply(dst, src);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** Array version of: {@link #nnvgTransformInverse} */
@@ -2660,7 +2870,8 @@ public class NanoVG {
             check(dst, 6);
             check(src, 6);
         }
-        return nnvgTransformInverse(dst, src) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nnvgTransformInverse(dst, src)) != 0;
     }
 
     /** Array version of: {@link #nnvgTransformPoint} */
@@ -2673,7 +2884,9 @@ public class NanoVG {
             check(dsty, 1);
             check(xform, 6);
         }
+        long __start = FunctionProfiler.start();
         nnvgTransformPoint(dstx, dsty, xform, srcx, srcy);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** Array version of: {@link #nnvgImageSize} */
@@ -2686,7 +2899,9 @@ public class NanoVG {
             check(w, 1);
             check(h, 1);
         }
+        long __start = FunctionProfiler.start();
         nnvgImageSize(ctx, image, w, h);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /** Array version of: {@link #nnvgTextBounds} */
@@ -2698,7 +2913,8 @@ public class NanoVG {
             check(ctx);
             checkSafe(bounds, 4);
         }
-        return nnvgTextBounds(ctx, x, y, memAddress(string), memAddress(string) + string.remaining(), bounds);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 89, __start, nnvgTextBounds(ctx, x, y, memAddress(string), memAddress(string) + string.remaining(), bounds));
     }
 
     /** Array version of: {@link #nvgTextBounds TextBounds} */
@@ -2711,7 +2927,8 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
-            return nnvgTextBounds(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength, bounds);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 89, __start, nnvgTextBounds(ctx, x, y, stringEncoded, stringEncoded + stringEncodedLength, bounds));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2726,7 +2943,9 @@ public class NanoVG {
             check(ctx);
             checkSafe(bounds, 4);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextBoxBounds(ctx, x, y, breakRowWidth, memAddress(string), memAddress(string) + string.remaining(), bounds);
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     /** Array version of: {@link #nvgTextBoxBounds TextBoxBounds} */
@@ -2739,7 +2958,9 @@ public class NanoVG {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnvgTextBoxBounds(ctx, x, y, breakRowWidth, stringEncoded, stringEncoded + stringEncodedLength, bounds);
+            FunctionProfiler.end(PROFILE_ID + 90, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2756,7 +2977,9 @@ public class NanoVG {
             checkSafe(descender, 1);
             checkSafe(lineh, 1);
         }
+        long __start = FunctionProfiler.start();
         nnvgTextMetrics(ctx, ascender, descender, lineh);
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
 }
\ No newline at end of file
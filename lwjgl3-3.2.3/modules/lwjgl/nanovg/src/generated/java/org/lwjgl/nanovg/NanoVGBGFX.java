@@ -19,6 +19,8 @@ import static org.lwjgl.nanovg.NanoVG.*;
 /** Implementation of the NanoVG API using bgfx. */
 public class NanoVGBGFX {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NanoVGBGFX.class, "nvgCreate,nvgDelete,nvgSetViewId,nvgGetViewId,nvgluCreateFramebuffer,nvgluBindFramebuffer,nvgluDeleteFramebuffer,nvgluSetViewFramebuffer,org_lwjgl_nanovg_setup");
+
     protected NanoVGBGFX() {
         throw new UnsupportedOperationException();
     }
@@ -57,7 +59,8 @@ public class NanoVGBGFX {
 
     public static long nnvgCreate(int _edgeaa, short _viewId, long _allocator) {
         long __functionAddress = Functions.Create;
-        return invokePP(_edgeaa, _viewId, _allocator, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(_edgeaa, _viewId, _allocator, __functionAddress));
     }
 
     @NativeType("NVGcontext *")
@@ -72,7 +75,9 @@ public class NanoVGBGFX {
         if (CHECKS) {
             check(_ctx);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_ctx, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ nvgSetViewId ] ---
@@ -82,7 +87,9 @@ public class NanoVGBGFX {
         if (CHECKS) {
             check(_ctx);
         }
+        long __start = FunctionProfiler.start();
         invokePV(_ctx, _viewId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void nvgSetViewId(@NativeType("NVGcontext *") long _ctx, @NativeType("bgfx_view_id_t") int _viewId) {
@@ -97,7 +104,8 @@ public class NanoVGBGFX {
         if (CHECKS) {
             check(_ctx);
         }
-        return invokePS(_ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePS(_ctx, __functionAddress));
     }
 
     // --- [ nvgluCreateFramebuffer ] ---
@@ -107,7 +115,8 @@ public class NanoVGBGFX {
         if (CHECKS) {
             check(_ctx);
         }
-        return invokePP(_ctx, _width, _height, imageFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePP(_ctx, _width, _height, imageFlags, __functionAddress));
     }
 
     @Nullable
@@ -121,7 +130,9 @@ public class NanoVGBGFX {
 
     public static void nnvgluBindFramebuffer(long _framebuffer) {
         long __functionAddress = Functions.luBindFramebuffer;
+        long __start = FunctionProfiler.start();
         invokePV(_framebuffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     public static void nvgluBindFramebuffer(@Nullable @NativeType("NVGLUframebuffer *") NVGLUFramebufferBGFX _framebuffer) {
@@ -132,7 +143,9 @@ public class NanoVGBGFX {
 
     public static void nnvgluDeleteFramebuffer(long _framebuffer) {
         long __functionAddress = Functions.luDeleteFramebuffer;
+        long __start = FunctionProfiler.start();
         invokePV(_framebuffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void nvgluDeleteFramebuffer(@NativeType("NVGLUframebuffer *") NVGLUFramebufferBGFX _framebuffer) {
@@ -143,7 +156,9 @@ public class NanoVGBGFX {
 
     public static void nnvgluSetViewFramebuffer(short _view_id, long _framebuffer) {
         long __functionAddress = Functions.luSetViewFramebuffer;
+        long __start = FunctionProfiler.start();
         invokePV(_view_id, _framebuffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     public static void nvgluSetViewFramebuffer(@NativeType("bgfx_view_id_t") int _view_id, @NativeType("NVGLUframebuffer *") NVGLUFramebufferBGFX _framebuffer) {
@@ -161,7 +176,9 @@ public class NanoVGBGFX {
             check(nvgInternalParams);
             check(nvgDeleteInternal);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(realloc, free, nvgCreateInternal, nvgInternalParams, nvgDeleteInternal, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     private static class BGFX {
@@ -45,6 +45,8 @@ public class NanoVGGLES3 {
      */
     public static final int NVG_IMAGE_NODELETE = 1<<16;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NanoVGGLES3.class, "nvglCreateImageFromHandle,nvglImageHandle,nvgCreate,nvgDelete,nvgluCreateFramebuffer,nvgluBindFramebuffer,nvgluDeleteFramebuffer");
+
     static { LibNanoVG.initialize(); }
 
     protected NanoVGGLES3() {
@@ -71,7 +73,8 @@ public class NanoVGGLES3 {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvglCreateImageFromHandle(ctx, textureId, w, h, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nnvglCreateImageFromHandle(ctx, textureId, w, h, flags));
     }
 
     // --- [ nvglImageHandle ] ---
@@ -90,7 +93,8 @@ public class NanoVGGLES3 {
         if (CHECKS) {
             check(ctx);
         }
-        return nnvglImageHandle(ctx, image);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nnvglImageHandle(ctx, image));
     }
 
     // --- [ nvgCreate ] ---
@@ -108,7 +112,8 @@ public class NanoVGGLES3 {
      */
     @NativeType("NVGcontext *")
     public static long nvgCreate(int flags) {
-        return nnvgCreate(flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nnvgCreate(flags));
     }
 
     // --- [ nvgDelete ] ---
@@ -125,7 +130,9 @@ public class NanoVGGLES3 {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgDelete(ctx);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ nvgluCreateFramebuffer ] ---
@@ -147,7 +154,8 @@ public class NanoVGGLES3 {
         if (CHECKS) {
             check(ctx);
         }
-        long __result = nnvgluCreateFramebuffer(ctx, w, h, imageFlags);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nnvgluCreateFramebuffer(ctx, w, h, imageFlags));
         return NVGLUFramebuffer.createSafe(__result);
     }
 
@@ -166,7 +174,9 @@ public class NanoVGGLES3 {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgluBindFramebuffer(ctx, memAddressSafe(fb));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ nvgluDeleteFramebuffer ] ---
@@ -184,7 +194,9 @@ public class NanoVGGLES3 {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nnvgluDeleteFramebuffer(ctx, fb.address());
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
@@ -147,6 +147,8 @@ public class OUI {
         UI_KEY_UP          = 0x20000,
         UI_CHAR            = 0x40000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OUI.class, "uiDestroyContext,uiGetCursor,uiGetCursorDelta,uiGetCursorStart,uiGetCursorStartDelta,uiSetButton,uiGetButton,uiSetKey,uiGetScroll,uiSetFrozen,uiAllocHandle,uiSetHandler,uiSetMargins,uiGetHandler,uiGetRect,uiContains");
+
     static { LibNanoVG.initialize(); }
 
     protected OUI() {
@@ -182,7 +184,9 @@ public class OUI {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nuiDestroyContext(ctx);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ uiGetContext ] ---
@@ -204,7 +208,9 @@ public class OUI {
     /** Returns the current cursor position in screen coordinates as set by {@link #uiSetCursor SetCursor}. */
     @NativeType("UIvec2")
     public static UIVec2 uiGetCursor(@NativeType("UIvec2") UIVec2 __result) {
+        long __start = FunctionProfiler.start();
         nuiGetCursor(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
         return __result;
     }
 
@@ -216,7 +222,9 @@ public class OUI {
     /** Returns the offset of the cursor relative to the last call to {@link #uiProcess Process}. */
     @NativeType("UIvec2")
     public static UIVec2 uiGetCursorDelta(@NativeType("UIvec2") UIVec2 __result) {
+        long __start = FunctionProfiler.start();
         nuiGetCursorDelta(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
         return __result;
     }
 
@@ -228,7 +236,9 @@ public class OUI {
     /** Returns the beginning point of a drag operation. */
     @NativeType("UIvec2")
     public static UIVec2 uiGetCursorStart(@NativeType("UIvec2") UIVec2 __result) {
+        long __start = FunctionProfiler.start();
         nuiGetCursorStart(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
@@ -240,7 +250,9 @@ public class OUI {
     /** Returns the offset of the cursor relative to the beginning point of a drag operation. */
     @NativeType("UIvec2")
     public static UIVec2 uiGetCursorStartDelta(@NativeType("UIvec2") UIVec2 __result) {
+        long __start = FunctionProfiler.start();
         nuiGetCursorStartDelta(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
         return __result;
     }
 
@@ -256,7 +268,9 @@ public class OUI {
      * @param enabled is 1 for pressed, 0 for released
      */
     public static void uiSetButton(@NativeType("unsigned int") int button, @NativeType("unsigned int") int mod, @NativeType("int") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nuiSetButton(button, mod, enabled ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ uiGetButton ] ---
@@ -271,7 +285,8 @@ public class OUI {
      */
     @NativeType("int")
     public static boolean uiGetButton(@NativeType("unsigned int") int button) {
-        return nuiGetButton(button) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nuiGetButton(button)) != 0;
     }
 
     // --- [ uiGetClicks ] ---
@@ -293,7 +308,9 @@ public class OUI {
      * @param enabled 1 for key down, 0 for key up
      */
     public static void uiSetKey(@NativeType("unsigned int") int key, @NativeType("unsigned int") int mod, @NativeType("int") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nuiSetKey(key, mod, enabled ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ uiSetChar ] ---
@@ -322,7 +339,9 @@ public class OUI {
     /** Returns the currently accumulated scroll wheel offsets for this frame */
     @NativeType("UIvec2")
     public static UIVec2 uiGetScroll(@NativeType("UIvec2") UIVec2 __result) {
+        long __start = FunctionProfiler.start();
         nuiGetScroll(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
         return __result;
     }
 
@@ -397,7 +416,9 @@ public class OUI {
      * drawing routine needs to handle rendering of child items appropriately.</p>
      */
     public static void uiSetFrozen(int item, @NativeType("int") boolean enable) {
+        long __start = FunctionProfiler.start();
         nuiSetFrozen(item, enable ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ uiSetHandle ] ---
@@ -422,7 +443,8 @@ public class OUI {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer uiAllocHandle(int item, @NativeType("unsigned int") int size) {
-        long __result = nuiAllocHandle(item, size);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, nuiAllocHandle(item, size));
         return memByteBufferSafe(__result, size);
     }
 
@@ -437,7 +459,9 @@ public class OUI {
      * <p>The handler will be called for each item whose event flags are set using {@link #uiSetEvents SetEvents}.</p>
      */
     public static void uiSetHandler(@NativeType("UIhandler") UIHandlerI handler) {
+        long __start = FunctionProfiler.start();
         nuiSetHandler(handler.address());
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ uiSetEvents ] ---
@@ -524,7 +548,9 @@ public class OUI {
      * <p>When the item is anchored to the parent or another item, the margin controls the distance from the neighboring element.</p>
      */
     public static void uiSetMargins(int item, @NativeType("short") int l, @NativeType("short") int t, @NativeType("short") int r, @NativeType("short") int b) {
+        long __start = FunctionProfiler.start();
         nuiSetMargins(item, (short)l, (short)t, (short)r, (short)b);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ uiFocus ] ---
@@ -613,7 +639,8 @@ public class OUI {
     @Nullable
     @NativeType("UIhandler")
     public static UIHandler uiGetHandler() {
-        return UIHandler.createSafe(nuiGetHandler());
+        long __start = FunctionProfiler.start();
+        return UIHandler.createSafe(FunctionProfiler.end(PROFILE_ID + 13, __start, nuiGetHandler()));
     }
 
     // --- [ uiGetEvents ] ---
@@ -652,7 +679,9 @@ public class OUI {
      */
     @NativeType("UIrect")
     public static UIRect uiGetRect(int item, @NativeType("UIrect") UIRect __result) {
+        long __start = FunctionProfiler.start();
         nuiGetRect(item, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
         return __result;
     }
 
@@ -664,7 +693,8 @@ public class OUI {
     /** Returns 1 if an items absolute rectangle contains a given coordinate, otherwise 0. */
     @NativeType("int")
     public static boolean uiContains(int item, int x, int y) {
-        return nuiContains(item, x, y) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nuiContains(item, x, y)) != 0;
     }
 
     // --- [ uiGetWidth ] ---
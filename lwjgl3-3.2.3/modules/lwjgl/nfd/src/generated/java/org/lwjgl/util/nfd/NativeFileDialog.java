@@ -78,6 +78,8 @@ public class NativeFileDialog {
         NFD_OKAY   = 1,
         NFD_CANCEL = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NativeFileDialog.class, "NFD_OpenDialog,NFD_OpenDialogMultiple,NFD_SaveDialog,NFD_PickFolder,NFD_GetError,NFD_PathSet_GetCount,NFD_PathSet_GetPath,NFD_PathSet_Free,NFD_Free");
+
     static { LibNFD.initialize(); }
 
     protected NativeFileDialog() {
@@ -106,7 +108,8 @@ public class NativeFileDialog {
             checkNT1Safe(defaultPath);
             check(outPath, 1);
         }
-        return nNFD_OpenDialog(memAddressSafe(filterList), memAddressSafe(defaultPath), memAddress(outPath));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nNFD_OpenDialog(memAddressSafe(filterList), memAddressSafe(defaultPath), memAddress(outPath)));
     }
 
     /**
@@ -130,7 +133,8 @@ public class NativeFileDialog {
             long filterListEncoded = filterList == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(defaultPath, true);
             long defaultPathEncoded = defaultPath == null ? NULL : stack.getPointerAddress();
-            return nNFD_OpenDialog(filterListEncoded, defaultPathEncoded, memAddress(outPath));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nNFD_OpenDialog(filterListEncoded, defaultPathEncoded, memAddress(outPath)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -157,7 +161,8 @@ public class NativeFileDialog {
             checkNT1Safe(filterList);
             checkNT1Safe(defaultPath);
         }
-        return nNFD_OpenDialogMultiple(memAddressSafe(filterList), memAddressSafe(defaultPath), outPaths.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nNFD_OpenDialogMultiple(memAddressSafe(filterList), memAddressSafe(defaultPath), outPaths.address()));
     }
 
     /**
@@ -178,7 +183,8 @@ public class NativeFileDialog {
             long filterListEncoded = filterList == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(defaultPath, true);
             long defaultPathEncoded = defaultPath == null ? NULL : stack.getPointerAddress();
-            return nNFD_OpenDialogMultiple(filterListEncoded, defaultPathEncoded, outPaths.address());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, nNFD_OpenDialogMultiple(filterListEncoded, defaultPathEncoded, outPaths.address()));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -206,7 +212,8 @@ public class NativeFileDialog {
             checkNT1Safe(defaultPath);
             check(outPath, 1);
         }
-        return nNFD_SaveDialog(memAddressSafe(filterList), memAddressSafe(defaultPath), memAddress(outPath));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nNFD_SaveDialog(memAddressSafe(filterList), memAddressSafe(defaultPath), memAddress(outPath)));
     }
 
     /**
@@ -230,7 +237,8 @@ public class NativeFileDialog {
             long filterListEncoded = filterList == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(defaultPath, true);
             long defaultPathEncoded = defaultPath == null ? NULL : stack.getPointerAddress();
-            return nNFD_SaveDialog(filterListEncoded, defaultPathEncoded, memAddress(outPath));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 2, __start, nNFD_SaveDialog(filterListEncoded, defaultPathEncoded, memAddress(outPath)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -256,7 +264,8 @@ public class NativeFileDialog {
             checkNT1Safe(defaultPath);
             check(outPath, 1);
         }
-        return nNFD_PickFolder(memAddressSafe(defaultPath), memAddress(outPath));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nNFD_PickFolder(memAddressSafe(defaultPath), memAddress(outPath)));
     }
 
     /**
@@ -277,7 +286,8 @@ public class NativeFileDialog {
         try {
             stack.nUTF8Safe(defaultPath, true);
             long defaultPathEncoded = defaultPath == null ? NULL : stack.getPointerAddress();
-            return nNFD_PickFolder(defaultPathEncoded, memAddress(outPath));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nNFD_PickFolder(defaultPathEncoded, memAddress(outPath)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -292,7 +302,8 @@ public class NativeFileDialog {
     @Nullable
     @NativeType("char const *")
     public static String NFD_GetError() {
-        long __result = nNFD_GetError();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nNFD_GetError());
         return memASCIISafe(__result);
     }
 
@@ -308,7 +319,8 @@ public class NativeFileDialog {
      */
     @NativeType("size_t")
     public static long NFD_PathSet_GetCount(@NativeType("nfdpathset_t const *") NFDPathSet pathSet) {
-        return nNFD_PathSet_GetCount(pathSet.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nNFD_PathSet_GetCount(pathSet.address()));
     }
 
     // --- [ NFD_PathSet_GetPath ] ---
@@ -325,7 +337,8 @@ public class NativeFileDialog {
     @Nullable
     @NativeType("nfdchar_t *")
     public static String NFD_PathSet_GetPath(@NativeType("nfdpathset_t const *") NFDPathSet pathSet, @NativeType("size_t") long index) {
-        long __result = nNFD_PathSet_GetPath(pathSet.address(), index);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, nNFD_PathSet_GetPath(pathSet.address(), index));
         return memUTF8Safe(__result);
     }
 
@@ -340,7 +353,9 @@ public class NativeFileDialog {
      * @param pathSet the path set
      */
     public static void NFD_PathSet_Free(@NativeType("nfdpathset_t *") NFDPathSet pathSet) {
+        long __start = FunctionProfiler.start();
         nNFD_PathSet_Free(pathSet.address());
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ NFD_Free ] ---
@@ -357,7 +372,9 @@ public class NativeFileDialog {
         if (CHECKS) {
             check(outPath, 1);
         }
+        long __start = FunctionProfiler.start();
         nNFD_Free(memAddress(outPath));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
 }
\ No newline at end of file
@@ -240,6 +240,24 @@ public class NkBuffer extends Struct implements NativeResource {
         return wrap(NkBuffer.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkBuffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkBuffer malloc(MemoryArena arena) {
+        return wrap(NkBuffer.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkBuffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkBuffer calloc(MemoryArena arena) {
+        return wrap(NkBuffer.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkBuffer.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class NkBuffer extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkBuffer.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkBuffer.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkBuffer.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkBuffer.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #marker}. */
@@ -371,6 +409,15 @@ public class NkBuffer extends Struct implements NativeResource {
         @NativeType("nk_size")
         public long size() { return NkBuffer.nsize(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkBuffer.Buffer getType(int[] dst) { gather(NkBuffer.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkBuffer.Buffer getType(IntBuffer dst) { gather(NkBuffer.TYPE, dst); return this; }
+        /** Copies the {@code grow_factor} field of the structs between the current position and limit to the specified array. */
+        public NkBuffer.Buffer getGrow_factor(float[] dst) { gather(NkBuffer.GROW_FACTOR, dst); return this; }
+        /** Copies the {@code grow_factor} field of the structs between the current position and limit to the specified buffer. */
+        public NkBuffer.Buffer getGrow_factor(FloatBuffer dst) { gather(NkBuffer.GROW_FACTOR, dst); return this; }
+
     }
 
 }
\ No newline at end of file
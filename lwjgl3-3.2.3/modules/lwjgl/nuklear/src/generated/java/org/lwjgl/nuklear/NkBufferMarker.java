@@ -148,6 +148,11 @@ public class NkBufferMarker extends Struct {
         @NativeType("nk_size")
         public long offset() { return NkBufferMarker.noffset(address()); }
 
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified array. */
+        public NkBufferMarker.Buffer getActive(int[] dst) { gather(NkBufferMarker.ACTIVE, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified buffer. */
+        public NkBufferMarker.Buffer getActive(IntBuffer dst) { gather(NkBufferMarker.ACTIVE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -199,6 +199,27 @@ public class NkChart extends Struct {
         @NativeType("struct nk_chart_slot")
         public NkChartSlot slots(int index) { return NkChart.nslots(address(), index); }
 
+        /** Copies the {@code slot} field of the structs between the current position and limit to the specified array. */
+        public NkChart.Buffer getSlot(int[] dst) { gather(NkChart.SLOT, dst); return this; }
+        /** Copies the {@code slot} field of the structs between the current position and limit to the specified buffer. */
+        public NkChart.Buffer getSlot(IntBuffer dst) { gather(NkChart.SLOT, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public NkChart.Buffer getX(float[] dst) { gather(NkChart.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public NkChart.Buffer getX(FloatBuffer dst) { gather(NkChart.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public NkChart.Buffer getY(float[] dst) { gather(NkChart.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public NkChart.Buffer getY(FloatBuffer dst) { gather(NkChart.Y, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public NkChart.Buffer getW(float[] dst) { gather(NkChart.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public NkChart.Buffer getW(FloatBuffer dst) { gather(NkChart.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public NkChart.Buffer getH(float[] dst) { gather(NkChart.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public NkChart.Buffer getH(FloatBuffer dst) { gather(NkChart.H, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,31 @@ public class NkChartSlot extends Struct {
         /** Returns the value of the {@code index} field. */
         public int index() { return NkChartSlot.nindex(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkChartSlot.Buffer getType(int[] dst) { gather(NkChartSlot.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkChartSlot.Buffer getType(IntBuffer dst) { gather(NkChartSlot.TYPE, dst); return this; }
+        /** Copies the {@code min} field of the structs between the current position and limit to the specified array. */
+        public NkChartSlot.Buffer getMin(float[] dst) { gather(NkChartSlot.MIN, dst); return this; }
+        /** Copies the {@code min} field of the structs between the current position and limit to the specified buffer. */
+        public NkChartSlot.Buffer getMin(FloatBuffer dst) { gather(NkChartSlot.MIN, dst); return this; }
+        /** Copies the {@code max} field of the structs between the current position and limit to the specified array. */
+        public NkChartSlot.Buffer getMax(float[] dst) { gather(NkChartSlot.MAX, dst); return this; }
+        /** Copies the {@code max} field of the structs between the current position and limit to the specified buffer. */
+        public NkChartSlot.Buffer getMax(FloatBuffer dst) { gather(NkChartSlot.MAX, dst); return this; }
+        /** Copies the {@code range} field of the structs between the current position and limit to the specified array. */
+        public NkChartSlot.Buffer getRange(float[] dst) { gather(NkChartSlot.RANGE, dst); return this; }
+        /** Copies the {@code range} field of the structs between the current position and limit to the specified buffer. */
+        public NkChartSlot.Buffer getRange(FloatBuffer dst) { gather(NkChartSlot.RANGE, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified array. */
+        public NkChartSlot.Buffer getCount(int[] dst) { gather(NkChartSlot.COUNT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified buffer. */
+        public NkChartSlot.Buffer getCount(IntBuffer dst) { gather(NkChartSlot.COUNT, dst); return this; }
+        /** Copies the {@code index} field of the structs between the current position and limit to the specified array. */
+        public NkChartSlot.Buffer getIndex(int[] dst) { gather(NkChartSlot.INDEX, dst); return this; }
+        /** Copies the {@code index} field of the structs between the current position and limit to the specified buffer. */
+        public NkChartSlot.Buffer getIndex(IntBuffer dst) { gather(NkChartSlot.INDEX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
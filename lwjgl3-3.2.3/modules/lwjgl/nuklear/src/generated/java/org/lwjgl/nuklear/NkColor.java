@@ -224,6 +224,24 @@ public class NkColor extends Struct implements NativeResource {
         return wrap(NkColor.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkColor} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkColor malloc(MemoryArena arena) {
+        return wrap(NkColor.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkColor} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkColor calloc(MemoryArena arena) {
+        return wrap(NkColor.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkColor.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class NkColor extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkColor.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkColor.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkColor.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkColor.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #r}. */
@@ -342,6 +380,40 @@ public class NkColor extends Struct implements NativeResource {
         /** Sets the specified value to the {@code a} field. */
         public NkColor.Buffer a(@NativeType("nk_byte") byte value) { NkColor.na(address(), value); return this; }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public NkColor.Buffer getR(byte[] dst) { gather(NkColor.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public NkColor.Buffer getR(ByteBuffer dst) { gather(NkColor.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public NkColor.Buffer getG(byte[] dst) { gather(NkColor.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public NkColor.Buffer getG(ByteBuffer dst) { gather(NkColor.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public NkColor.Buffer getB(byte[] dst) { gather(NkColor.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public NkColor.Buffer getB(ByteBuffer dst) { gather(NkColor.B, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public NkColor.Buffer getA(byte[] dst) { gather(NkColor.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public NkColor.Buffer getA(ByteBuffer dst) { gather(NkColor.A, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code r} field of the structs between the current position and limit. */
+        public NkColor.Buffer putR(byte[] src) { scatter(NkColor.R, src); return this; }
+        /** Copies the values in the specified buffer to the {@code r} field of the structs between the current position and limit. */
+        public NkColor.Buffer putR(ByteBuffer src) { scatter(NkColor.R, src); return this; }
+        /** Copies the values in the specified array to the {@code g} field of the structs between the current position and limit. */
+        public NkColor.Buffer putG(byte[] src) { scatter(NkColor.G, src); return this; }
+        /** Copies the values in the specified buffer to the {@code g} field of the structs between the current position and limit. */
+        public NkColor.Buffer putG(ByteBuffer src) { scatter(NkColor.G, src); return this; }
+        /** Copies the values in the specified array to the {@code b} field of the structs between the current position and limit. */
+        public NkColor.Buffer putB(byte[] src) { scatter(NkColor.B, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b} field of the structs between the current position and limit. */
+        public NkColor.Buffer putB(ByteBuffer src) { scatter(NkColor.B, src); return this; }
+        /** Copies the values in the specified array to the {@code a} field of the structs between the current position and limit. */
+        public NkColor.Buffer putA(byte[] src) { scatter(NkColor.A, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a} field of the structs between the current position and limit. */
+        public NkColor.Buffer putA(ByteBuffer src) { scatter(NkColor.A, src); return this; }
+
     }
 
 }
\ No newline at end of file
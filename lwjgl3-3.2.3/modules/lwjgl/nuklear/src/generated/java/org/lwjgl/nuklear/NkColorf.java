@@ -220,6 +220,24 @@ public class NkColorf extends Struct implements NativeResource {
         return wrap(NkColorf.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkColorf} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkColorf malloc(MemoryArena arena) {
+        return wrap(NkColorf.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkColorf} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkColorf calloc(MemoryArena arena) {
+        return wrap(NkColorf.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkColorf.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class NkColorf extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkColorf.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkColorf.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkColorf.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkColorf.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #r}. */
@@ -334,6 +372,40 @@ public class NkColorf extends Struct implements NativeResource {
         /** Sets the specified value to the {@code a} field. */
         public NkColorf.Buffer a(float value) { NkColorf.na(address(), value); return this; }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public NkColorf.Buffer getR(float[] dst) { gather(NkColorf.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public NkColorf.Buffer getR(FloatBuffer dst) { gather(NkColorf.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public NkColorf.Buffer getG(float[] dst) { gather(NkColorf.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public NkColorf.Buffer getG(FloatBuffer dst) { gather(NkColorf.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public NkColorf.Buffer getB(float[] dst) { gather(NkColorf.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public NkColorf.Buffer getB(FloatBuffer dst) { gather(NkColorf.B, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public NkColorf.Buffer getA(float[] dst) { gather(NkColorf.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public NkColorf.Buffer getA(FloatBuffer dst) { gather(NkColorf.A, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code r} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putR(float[] src) { scatter(NkColorf.R, src); return this; }
+        /** Copies the values in the specified buffer to the {@code r} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putR(FloatBuffer src) { scatter(NkColorf.R, src); return this; }
+        /** Copies the values in the specified array to the {@code g} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putG(float[] src) { scatter(NkColorf.G, src); return this; }
+        /** Copies the values in the specified buffer to the {@code g} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putG(FloatBuffer src) { scatter(NkColorf.G, src); return this; }
+        /** Copies the values in the specified array to the {@code b} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putB(float[] src) { scatter(NkColorf.B, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putB(FloatBuffer src) { scatter(NkColorf.B, src); return this; }
+        /** Copies the values in the specified array to the {@code a} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putA(float[] src) { scatter(NkColorf.A, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a} field of the structs between the current position and limit. */
+        public NkColorf.Buffer putA(FloatBuffer src) { scatter(NkColorf.A, src); return this; }
+
     }
 
 }
\ No newline at end of file
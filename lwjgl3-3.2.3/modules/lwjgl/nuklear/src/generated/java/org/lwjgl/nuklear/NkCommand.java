@@ -162,6 +162,11 @@ public class NkCommand extends Struct {
         @NativeType("nk_handle")
         public NkHandle userdata() { return NkCommand.nuserdata(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkCommand.Buffer getType(int[] dst) { gather(NkCommand.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkCommand.Buffer getType(IntBuffer dst) { gather(NkCommand.TYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
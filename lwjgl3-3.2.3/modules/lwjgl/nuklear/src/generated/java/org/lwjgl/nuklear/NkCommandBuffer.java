@@ -210,6 +210,11 @@ public class NkCommandBuffer extends Struct {
         @NativeType("nk_size")
         public long last() { return NkCommandBuffer.nlast(address()); }
 
+        /** Copies the {@code use_clipping} field of the structs between the current position and limit to the specified array. */
+        public NkCommandBuffer.Buffer getUse_clipping(int[] dst) { gather(NkCommandBuffer.USE_CLIPPING, dst); return this; }
+        /** Copies the {@code use_clipping} field of the structs between the current position and limit to the specified buffer. */
+        public NkCommandBuffer.Buffer getUse_clipping(IntBuffer dst) { gather(NkCommandBuffer.USE_CLIPPING, dst); return this; }
+
     }
 
 }
\ No newline at end of file
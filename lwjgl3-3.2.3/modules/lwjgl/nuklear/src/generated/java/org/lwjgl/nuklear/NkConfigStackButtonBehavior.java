@@ -159,6 +159,11 @@ class NkConfigStackButtonBehavior extends Struct {
         @NativeType("struct nk_config_stack_button_behavior_element")
         public NkConfigStackButtonBehaviorElement elements(int index) { return NkConfigStackButtonBehavior.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackButtonBehavior.Buffer getHead(int[] dst) { gather(NkConfigStackButtonBehavior.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackButtonBehavior.Buffer getHead(IntBuffer dst) { gather(NkConfigStackButtonBehavior.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
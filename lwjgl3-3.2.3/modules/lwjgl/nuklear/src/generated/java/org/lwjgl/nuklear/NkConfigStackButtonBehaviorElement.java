@@ -158,6 +158,11 @@ class NkConfigStackButtonBehaviorElement extends Struct {
         @NativeType("enum nk_button_behavior")
         public int old_value() { return NkConfigStackButtonBehaviorElement.nold_value(address()); }
 
+        /** Copies the {@code old_value} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackButtonBehaviorElement.Buffer getOld_value(int[] dst) { gather(NkConfigStackButtonBehaviorElement.OLD_VALUE, dst); return this; }
+        /** Copies the {@code old_value} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackButtonBehaviorElement.Buffer getOld_value(IntBuffer dst) { gather(NkConfigStackButtonBehaviorElement.OLD_VALUE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
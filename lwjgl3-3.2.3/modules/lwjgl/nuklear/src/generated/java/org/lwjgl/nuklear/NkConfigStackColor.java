@@ -159,6 +159,11 @@ class NkConfigStackColor extends Struct {
         @NativeType("struct nk_config_stack_color_element")
         public NkConfigStackColorElement elements(int index) { return NkConfigStackColor.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackColor.Buffer getHead(int[] dst) { gather(NkConfigStackColor.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackColor.Buffer getHead(IntBuffer dst) { gather(NkConfigStackColor.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
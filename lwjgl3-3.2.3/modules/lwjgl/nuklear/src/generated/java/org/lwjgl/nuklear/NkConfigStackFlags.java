@@ -159,6 +159,11 @@ class NkConfigStackFlags extends Struct {
         @NativeType("struct nk_config_stack_flags_element")
         public NkConfigStackFlagsElement elements(int index) { return NkConfigStackFlags.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackFlags.Buffer getHead(int[] dst) { gather(NkConfigStackFlags.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackFlags.Buffer getHead(IntBuffer dst) { gather(NkConfigStackFlags.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
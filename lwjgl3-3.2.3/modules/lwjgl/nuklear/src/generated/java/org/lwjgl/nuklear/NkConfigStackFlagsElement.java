@@ -158,6 +158,11 @@ class NkConfigStackFlagsElement extends Struct {
         @NativeType("nk_flags")
         public int old_value() { return NkConfigStackFlagsElement.nold_value(address()); }
 
+        /** Copies the {@code old_value} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackFlagsElement.Buffer getOld_value(int[] dst) { gather(NkConfigStackFlagsElement.OLD_VALUE, dst); return this; }
+        /** Copies the {@code old_value} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackFlagsElement.Buffer getOld_value(IntBuffer dst) { gather(NkConfigStackFlagsElement.OLD_VALUE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -159,6 +159,11 @@ class NkConfigStackFloat extends Struct {
         @NativeType("struct nk_config_stack_float_element")
         public NkConfigStackFloatElement elements(int index) { return NkConfigStackFloat.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackFloat.Buffer getHead(int[] dst) { gather(NkConfigStackFloat.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackFloat.Buffer getHead(IntBuffer dst) { gather(NkConfigStackFloat.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -156,6 +156,11 @@ class NkConfigStackFloatElement extends Struct {
         /** Returns the value of the {@code old_value} field. */
         public float old_value() { return NkConfigStackFloatElement.nold_value(address()); }
 
+        /** Copies the {@code old_value} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackFloatElement.Buffer getOld_value(float[] dst) { gather(NkConfigStackFloatElement.OLD_VALUE, dst); return this; }
+        /** Copies the {@code old_value} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackFloatElement.Buffer getOld_value(FloatBuffer dst) { gather(NkConfigStackFloatElement.OLD_VALUE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
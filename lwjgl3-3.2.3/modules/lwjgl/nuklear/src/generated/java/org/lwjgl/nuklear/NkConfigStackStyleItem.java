@@ -159,6 +159,11 @@ class NkConfigStackStyleItem extends Struct {
         @NativeType("struct nk_config_stack_style_item_element")
         public NkConfigStackStyleItemElement elements(int index) { return NkConfigStackStyleItem.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackStyleItem.Buffer getHead(int[] dst) { gather(NkConfigStackStyleItem.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackStyleItem.Buffer getHead(IntBuffer dst) { gather(NkConfigStackStyleItem.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
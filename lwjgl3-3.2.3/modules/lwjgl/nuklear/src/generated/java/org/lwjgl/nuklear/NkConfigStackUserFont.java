@@ -159,6 +159,11 @@ class NkConfigStackUserFont extends Struct {
         @NativeType("struct nk_config_stack_user_font_element")
         public NkConfigStackUserFontElement elements(int index) { return NkConfigStackUserFont.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackUserFont.Buffer getHead(int[] dst) { gather(NkConfigStackUserFont.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackUserFont.Buffer getHead(IntBuffer dst) { gather(NkConfigStackUserFont.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -159,6 +159,11 @@ class NkConfigStackVec2 extends Struct {
         @NativeType("struct nk_config_stack_vec2_element")
         public NkConfigStackVec2Element elements(int index) { return NkConfigStackVec2.nelements(address(), index); }
 
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified array. */
+        public NkConfigStackVec2.Buffer getHead(int[] dst) { gather(NkConfigStackVec2.HEAD, dst); return this; }
+        /** Copies the {@code head} field of the structs between the current position and limit to the specified buffer. */
+        public NkConfigStackVec2.Buffer getHead(IntBuffer dst) { gather(NkConfigStackVec2.HEAD, dst); return this; }
+
     }
 
 }
\ No newline at end of file
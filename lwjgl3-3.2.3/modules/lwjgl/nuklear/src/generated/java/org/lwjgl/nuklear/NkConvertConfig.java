@@ -311,6 +311,24 @@ public class NkConvertConfig extends Struct implements NativeResource {
         return wrap(NkConvertConfig.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkConvertConfig} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkConvertConfig malloc(MemoryArena arena) {
+        return wrap(NkConvertConfig.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkConvertConfig} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkConvertConfig calloc(MemoryArena arena) {
+        return wrap(NkConvertConfig.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkConvertConfig.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -349,6 +367,26 @@ public class NkConvertConfig extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkConvertConfig.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkConvertConfig.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkConvertConfig.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkConvertConfig.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #global_alpha}. */
@@ -509,6 +547,56 @@ public class NkConvertConfig extends Struct implements NativeResource {
         /** Sets the specified value to the {@code vertex_alignment} field. */
         public NkConvertConfig.Buffer vertex_alignment(@NativeType("nk_size") long value) { NkConvertConfig.nvertex_alignment(address(), value); return this; }
 
+        /** Copies the {@code global_alpha} field of the structs between the current position and limit to the specified array. */
+        public NkConvertConfig.Buffer getGlobal_alpha(float[] dst) { gather(NkConvertConfig.GLOBAL_ALPHA, dst); return this; }
+        /** Copies the {@code global_alpha} field of the structs between the current position and limit to the specified buffer. */
+        public NkConvertConfig.Buffer getGlobal_alpha(FloatBuffer dst) { gather(NkConvertConfig.GLOBAL_ALPHA, dst); return this; }
+        /** Copies the {@code line_AA} field of the structs between the current position and limit to the specified array. */
+        public NkConvertConfig.Buffer getLine_AA(int[] dst) { gather(NkConvertConfig.LINE_AA, dst); return this; }
+        /** Copies the {@code line_AA} field of the structs between the current position and limit to the specified buffer. */
+        public NkConvertConfig.Buffer getLine_AA(IntBuffer dst) { gather(NkConvertConfig.LINE_AA, dst); return this; }
+        /** Copies the {@code shape_AA} field of the structs between the current position and limit to the specified array. */
+        public NkConvertConfig.Buffer getShape_AA(int[] dst) { gather(NkConvertConfig.SHAPE_AA, dst); return this; }
+        /** Copies the {@code shape_AA} field of the structs between the current position and limit to the specified buffer. */
+        public NkConvertConfig.Buffer getShape_AA(IntBuffer dst) { gather(NkConvertConfig.SHAPE_AA, dst); return this; }
+        /** Copies the {@code circle_segment_count} field of the structs between the current position and limit to the specified array. */
+        public NkConvertConfig.Buffer getCircle_segment_count(int[] dst) { gather(NkConvertConfig.CIRCLE_SEGMENT_COUNT, dst); return this; }
+        /** Copies the {@code circle_segment_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkConvertConfig.Buffer getCircle_segment_count(IntBuffer dst) { gather(NkConvertConfig.CIRCLE_SEGMENT_COUNT, dst); return this; }
+        /** Copies the {@code arc_segment_count} field of the structs between the current position and limit to the specified array. */
+        public NkConvertConfig.Buffer getArc_segment_count(int[] dst) { gather(NkConvertConfig.ARC_SEGMENT_COUNT, dst); return this; }
+        /** Copies the {@code arc_segment_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkConvertConfig.Buffer getArc_segment_count(IntBuffer dst) { gather(NkConvertConfig.ARC_SEGMENT_COUNT, dst); return this; }
+        /** Copies the {@code curve_segment_count} field of the structs between the current position and limit to the specified array. */
+        public NkConvertConfig.Buffer getCurve_segment_count(int[] dst) { gather(NkConvertConfig.CURVE_SEGMENT_COUNT, dst); return this; }
+        /** Copies the {@code curve_segment_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkConvertConfig.Buffer getCurve_segment_count(IntBuffer dst) { gather(NkConvertConfig.CURVE_SEGMENT_COUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code global_alpha} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putGlobal_alpha(float[] src) { scatter(NkConvertConfig.GLOBAL_ALPHA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code global_alpha} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putGlobal_alpha(FloatBuffer src) { scatter(NkConvertConfig.GLOBAL_ALPHA, src); return this; }
+        /** Copies the values in the specified array to the {@code line_AA} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putLine_AA(int[] src) { scatter(NkConvertConfig.LINE_AA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code line_AA} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putLine_AA(IntBuffer src) { scatter(NkConvertConfig.LINE_AA, src); return this; }
+        /** Copies the values in the specified array to the {@code shape_AA} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putShape_AA(int[] src) { scatter(NkConvertConfig.SHAPE_AA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code shape_AA} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putShape_AA(IntBuffer src) { scatter(NkConvertConfig.SHAPE_AA, src); return this; }
+        /** Copies the values in the specified array to the {@code circle_segment_count} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putCircle_segment_count(int[] src) { scatter(NkConvertConfig.CIRCLE_SEGMENT_COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code circle_segment_count} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putCircle_segment_count(IntBuffer src) { scatter(NkConvertConfig.CIRCLE_SEGMENT_COUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code arc_segment_count} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putArc_segment_count(int[] src) { scatter(NkConvertConfig.ARC_SEGMENT_COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code arc_segment_count} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putArc_segment_count(IntBuffer src) { scatter(NkConvertConfig.ARC_SEGMENT_COUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code curve_segment_count} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putCurve_segment_count(int[] src) { scatter(NkConvertConfig.CURVE_SEGMENT_COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code curve_segment_count} field of the structs between the current position and limit. */
+        public NkConvertConfig.Buffer putCurve_segment_count(IntBuffer src) { scatter(NkConvertConfig.CURVE_SEGMENT_COUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
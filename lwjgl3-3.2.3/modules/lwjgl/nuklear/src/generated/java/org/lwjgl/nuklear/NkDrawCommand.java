@@ -174,6 +174,11 @@ public class NkDrawCommand extends Struct {
         @NativeType("nk_handle")
         public NkHandle userdata() { return NkDrawCommand.nuserdata(address()); }
 
+        /** Copies the {@code elem_count} field of the structs between the current position and limit to the specified array. */
+        public NkDrawCommand.Buffer getElem_count(int[] dst) { gather(NkDrawCommand.ELEM_COUNT, dst); return this; }
+        /** Copies the {@code elem_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawCommand.Buffer getElem_count(IntBuffer dst) { gather(NkDrawCommand.ELEM_COUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -272,6 +272,24 @@ public class NkDrawList extends Struct implements NativeResource {
         return wrap(NkDrawList.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkDrawList} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkDrawList malloc(MemoryArena arena) {
+        return wrap(NkDrawList.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkDrawList} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkDrawList calloc(MemoryArena arena) {
+        return wrap(NkDrawList.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkDrawList.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -310,6 +328,26 @@ public class NkDrawList extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkDrawList.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkDrawList.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkDrawList.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkDrawList.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #clip_rect}. */
@@ -437,6 +475,35 @@ public class NkDrawList extends Struct implements NativeResource {
         @NativeType("nk_handle")
         public NkHandle userdata() { return NkDrawList.nuserdata(address()); }
 
+        /** Copies the {@code element_count} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getElement_count(int[] dst) { gather(NkDrawList.ELEMENT_COUNT, dst); return this; }
+        /** Copies the {@code element_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getElement_count(IntBuffer dst) { gather(NkDrawList.ELEMENT_COUNT, dst); return this; }
+        /** Copies the {@code vertex_count} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getVertex_count(int[] dst) { gather(NkDrawList.VERTEX_COUNT, dst); return this; }
+        /** Copies the {@code vertex_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getVertex_count(IntBuffer dst) { gather(NkDrawList.VERTEX_COUNT, dst); return this; }
+        /** Copies the {@code cmd_count} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getCmd_count(int[] dst) { gather(NkDrawList.CMD_COUNT, dst); return this; }
+        /** Copies the {@code cmd_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getCmd_count(IntBuffer dst) { gather(NkDrawList.CMD_COUNT, dst); return this; }
+        /** Copies the {@code path_count} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getPath_count(int[] dst) { gather(NkDrawList.PATH_COUNT, dst); return this; }
+        /** Copies the {@code path_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getPath_count(IntBuffer dst) { gather(NkDrawList.PATH_COUNT, dst); return this; }
+        /** Copies the {@code path_offset} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getPath_offset(int[] dst) { gather(NkDrawList.PATH_OFFSET, dst); return this; }
+        /** Copies the {@code path_offset} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getPath_offset(IntBuffer dst) { gather(NkDrawList.PATH_OFFSET, dst); return this; }
+        /** Copies the {@code line_AA} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getLine_AA(int[] dst) { gather(NkDrawList.LINE_AA, dst); return this; }
+        /** Copies the {@code line_AA} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getLine_AA(IntBuffer dst) { gather(NkDrawList.LINE_AA, dst); return this; }
+        /** Copies the {@code shape_AA} field of the structs between the current position and limit to the specified array. */
+        public NkDrawList.Buffer getShape_AA(int[] dst) { gather(NkDrawList.SHAPE_AA, dst); return this; }
+        /** Copies the {@code shape_AA} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawList.Buffer getShape_AA(IntBuffer dst) { gather(NkDrawList.SHAPE_AA, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -221,6 +221,24 @@ public class NkDrawVertexLayoutElement extends Struct implements NativeResource
         return wrap(NkDrawVertexLayoutElement.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkDrawVertexLayoutElement} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkDrawVertexLayoutElement malloc(MemoryArena arena) {
+        return wrap(NkDrawVertexLayoutElement.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkDrawVertexLayoutElement} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkDrawVertexLayoutElement calloc(MemoryArena arena) {
+        return wrap(NkDrawVertexLayoutElement.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkDrawVertexLayoutElement.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -259,6 +277,26 @@ public class NkDrawVertexLayoutElement extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkDrawVertexLayoutElement.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkDrawVertexLayoutElement.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkDrawVertexLayoutElement.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkDrawVertexLayoutElement.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #attribute}. */
@@ -330,6 +368,24 @@ public class NkDrawVertexLayoutElement extends Struct implements NativeResource
         /** Sets the specified value to the {@code offset} field. */
         public NkDrawVertexLayoutElement.Buffer offset(@NativeType("nk_size") long value) { NkDrawVertexLayoutElement.noffset(address(), value); return this; }
 
+        /** Copies the {@code attribute} field of the structs between the current position and limit to the specified array. */
+        public NkDrawVertexLayoutElement.Buffer getAttribute(int[] dst) { gather(NkDrawVertexLayoutElement.ATTRIBUTE, dst); return this; }
+        /** Copies the {@code attribute} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawVertexLayoutElement.Buffer getAttribute(IntBuffer dst) { gather(NkDrawVertexLayoutElement.ATTRIBUTE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public NkDrawVertexLayoutElement.Buffer getFormat(int[] dst) { gather(NkDrawVertexLayoutElement.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public NkDrawVertexLayoutElement.Buffer getFormat(IntBuffer dst) { gather(NkDrawVertexLayoutElement.FORMAT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code attribute} field of the structs between the current position and limit. */
+        public NkDrawVertexLayoutElement.Buffer putAttribute(int[] src) { scatter(NkDrawVertexLayoutElement.ATTRIBUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code attribute} field of the structs between the current position and limit. */
+        public NkDrawVertexLayoutElement.Buffer putAttribute(IntBuffer src) { scatter(NkDrawVertexLayoutElement.ATTRIBUTE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public NkDrawVertexLayoutElement.Buffer putFormat(int[] src) { scatter(NkDrawVertexLayoutElement.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public NkDrawVertexLayoutElement.Buffer putFormat(IntBuffer src) { scatter(NkDrawVertexLayoutElement.FORMAT, src); return this; }
+
     }
 
 }
\ No newline at end of file
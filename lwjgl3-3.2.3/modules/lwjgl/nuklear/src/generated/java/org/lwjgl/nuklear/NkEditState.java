@@ -248,6 +248,43 @@ public class NkEditState extends Struct {
         @NativeType("bool")
         public boolean single_line() { return NkEditState.nsingle_line(address()); }
 
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getName(int[] dst) { gather(NkEditState.NAME, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getName(IntBuffer dst) { gather(NkEditState.NAME, dst); return this; }
+        /** Copies the {@code seq} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getSeq(int[] dst) { gather(NkEditState.SEQ, dst); return this; }
+        /** Copies the {@code seq} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getSeq(IntBuffer dst) { gather(NkEditState.SEQ, dst); return this; }
+        /** Copies the {@code old} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getOld(int[] dst) { gather(NkEditState.OLD, dst); return this; }
+        /** Copies the {@code old} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getOld(IntBuffer dst) { gather(NkEditState.OLD, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getActive(int[] dst) { gather(NkEditState.ACTIVE, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getActive(IntBuffer dst) { gather(NkEditState.ACTIVE, dst); return this; }
+        /** Copies the {@code prev} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getPrev(int[] dst) { gather(NkEditState.PREV, dst); return this; }
+        /** Copies the {@code prev} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getPrev(IntBuffer dst) { gather(NkEditState.PREV, dst); return this; }
+        /** Copies the {@code cursor} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getCursor(int[] dst) { gather(NkEditState.CURSOR, dst); return this; }
+        /** Copies the {@code cursor} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getCursor(IntBuffer dst) { gather(NkEditState.CURSOR, dst); return this; }
+        /** Copies the {@code sel_start} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getSel_start(int[] dst) { gather(NkEditState.SEL_START, dst); return this; }
+        /** Copies the {@code sel_start} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getSel_start(IntBuffer dst) { gather(NkEditState.SEL_START, dst); return this; }
+        /** Copies the {@code sel_end} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getSel_end(int[] dst) { gather(NkEditState.SEL_END, dst); return this; }
+        /** Copies the {@code sel_end} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getSel_end(IntBuffer dst) { gather(NkEditState.SEL_END, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified array. */
+        public NkEditState.Buffer getMode(byte[] dst) { gather(NkEditState.MODE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified buffer. */
+        public NkEditState.Buffer getMode(ByteBuffer dst) { gather(NkEditState.MODE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
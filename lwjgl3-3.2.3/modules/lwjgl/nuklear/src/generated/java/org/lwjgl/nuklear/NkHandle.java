@@ -190,6 +190,24 @@ public class NkHandle extends Struct implements NativeResource {
         return wrap(NkHandle.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkHandle} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkHandle malloc(MemoryArena arena) {
+        return wrap(NkHandle.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkHandle} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkHandle calloc(MemoryArena arena) {
+        return wrap(NkHandle.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkHandle.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -228,6 +246,26 @@ public class NkHandle extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkHandle.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkHandle.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkHandle.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkHandle.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ptr}. */
@@ -289,6 +327,16 @@ public class NkHandle extends Struct implements NativeResource {
         /** Sets the specified value to the {@code id} field. */
         public NkHandle.Buffer id(int value) { NkHandle.nid(address(), value); return this; }
 
+        /** Copies the {@code id} field of the structs between the current position and limit to the specified array. */
+        public NkHandle.Buffer getId(int[] dst) { gather(NkHandle.ID, dst); return this; }
+        /** Copies the {@code id} field of the structs between the current position and limit to the specified buffer. */
+        public NkHandle.Buffer getId(IntBuffer dst) { gather(NkHandle.ID, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code id} field of the structs between the current position and limit. */
+        public NkHandle.Buffer putId(int[] src) { scatter(NkHandle.ID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code id} field of the structs between the current position and limit. */
+        public NkHandle.Buffer putId(IntBuffer src) { scatter(NkHandle.ID, src); return this; }
+
     }
 
 }
\ No newline at end of file
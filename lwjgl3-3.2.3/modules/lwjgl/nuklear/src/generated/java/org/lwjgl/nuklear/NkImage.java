@@ -232,6 +232,24 @@ public class NkImage extends Struct implements NativeResource {
         return wrap(NkImage.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkImage} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkImage malloc(MemoryArena arena) {
+        return wrap(NkImage.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkImage} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkImage calloc(MemoryArena arena) {
+        return wrap(NkImage.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkImage.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class NkImage extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkImage.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkImage.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkImage.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkImage.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #handle}. */
@@ -368,6 +406,24 @@ public class NkImage extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code region} field. */
         public NkImage.Buffer region(int index, @NativeType("unsigned short") short value) { NkImage.nregion(address(), index, value); return this; }
 
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public NkImage.Buffer getW(short[] dst) { gather(NkImage.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public NkImage.Buffer getW(ShortBuffer dst) { gather(NkImage.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public NkImage.Buffer getH(short[] dst) { gather(NkImage.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public NkImage.Buffer getH(ShortBuffer dst) { gather(NkImage.H, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public NkImage.Buffer putW(short[] src) { scatter(NkImage.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public NkImage.Buffer putW(ShortBuffer src) { scatter(NkImage.W, src); return this; }
+        /** Copies the values in the specified array to the {@code h} field of the structs between the current position and limit. */
+        public NkImage.Buffer putH(short[] src) { scatter(NkImage.H, src); return this; }
+        /** Copies the values in the specified buffer to the {@code h} field of the structs between the current position and limit. */
+        public NkImage.Buffer putH(ShortBuffer src) { scatter(NkImage.H, src); return this; }
+
     }
 
 }
\ No newline at end of file
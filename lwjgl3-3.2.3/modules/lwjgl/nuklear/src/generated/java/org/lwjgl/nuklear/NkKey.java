@@ -148,6 +148,15 @@ public class NkKey extends Struct {
         @NativeType("unsigned int")
         public int clicked() { return NkKey.nclicked(address()); }
 
+        /** Copies the {@code down} field of the structs between the current position and limit to the specified array. */
+        public NkKey.Buffer getDown(int[] dst) { gather(NkKey.DOWN, dst); return this; }
+        /** Copies the {@code down} field of the structs between the current position and limit to the specified buffer. */
+        public NkKey.Buffer getDown(IntBuffer dst) { gather(NkKey.DOWN, dst); return this; }
+        /** Copies the {@code clicked} field of the structs between the current position and limit to the specified array. */
+        public NkKey.Buffer getClicked(int[] dst) { gather(NkKey.CLICKED, dst); return this; }
+        /** Copies the {@code clicked} field of the structs between the current position and limit to the specified buffer. */
+        public NkKey.Buffer getClicked(IntBuffer dst) { gather(NkKey.CLICKED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
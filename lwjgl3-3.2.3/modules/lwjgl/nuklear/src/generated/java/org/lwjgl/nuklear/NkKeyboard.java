@@ -183,6 +183,11 @@ public class NkKeyboard extends Struct {
         /** Returns the value of the {@code text_len} field. */
         public int text_len() { return NkKeyboard.ntext_len(address()); }
 
+        /** Copies the {@code text_len} field of the structs between the current position and limit to the specified array. */
+        public NkKeyboard.Buffer getText_len(int[] dst) { gather(NkKeyboard.TEXT_LEN, dst); return this; }
+        /** Copies the {@code text_len} field of the structs between the current position and limit to the specified buffer. */
+        public NkKeyboard.Buffer getText_len(IntBuffer dst) { gather(NkKeyboard.TEXT_LEN, dst); return this; }
+
     }
 
 }
\ No newline at end of file
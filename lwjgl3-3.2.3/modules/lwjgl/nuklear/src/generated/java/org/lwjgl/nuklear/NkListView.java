@@ -194,6 +194,24 @@ public class NkListView extends Struct implements NativeResource {
         return wrap(NkListView.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkListView} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkListView malloc(MemoryArena arena) {
+        return wrap(NkListView.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkListView} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkListView calloc(MemoryArena arena) {
+        return wrap(NkListView.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkListView.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -232,6 +250,26 @@ public class NkListView extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkListView.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkListView.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkListView.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkListView.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #begin}. */
@@ -290,6 +328,19 @@ public class NkListView extends Struct implements NativeResource {
         /** Returns the value of the {@code count} field. */
         public int count() { return NkListView.ncount(address()); }
 
+        /** Copies the {@code begin} field of the structs between the current position and limit to the specified array. */
+        public NkListView.Buffer getBegin(int[] dst) { gather(NkListView.BEGIN, dst); return this; }
+        /** Copies the {@code begin} field of the structs between the current position and limit to the specified buffer. */
+        public NkListView.Buffer getBegin(IntBuffer dst) { gather(NkListView.BEGIN, dst); return this; }
+        /** Copies the {@code end} field of the structs between the current position and limit to the specified array. */
+        public NkListView.Buffer getEnd(int[] dst) { gather(NkListView.END, dst); return this; }
+        /** Copies the {@code end} field of the structs between the current position and limit to the specified buffer. */
+        public NkListView.Buffer getEnd(IntBuffer dst) { gather(NkListView.END, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified array. */
+        public NkListView.Buffer getCount(int[] dst) { gather(NkListView.COUNT, dst); return this; }
+        /** Copies the {@code count} field of the structs between the current position and limit to the specified buffer. */
+        public NkListView.Buffer getCount(IntBuffer dst) { gather(NkListView.COUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -202,6 +202,24 @@ public class NkMemoryStatus extends Struct implements NativeResource {
         return wrap(NkMemoryStatus.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkMemoryStatus} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkMemoryStatus malloc(MemoryArena arena) {
+        return wrap(NkMemoryStatus.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkMemoryStatus} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkMemoryStatus calloc(MemoryArena arena) {
+        return wrap(NkMemoryStatus.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkMemoryStatus.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class NkMemoryStatus extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkMemoryStatus.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkMemoryStatus.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkMemoryStatus.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkMemoryStatus.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #memory() memory}. */
@@ -312,6 +350,11 @@ public class NkMemoryStatus extends Struct implements NativeResource {
         @NativeType("nk_size")
         public long calls() { return NkMemoryStatus.ncalls(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkMemoryStatus.Buffer getType(int[] dst) { gather(NkMemoryStatus.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkMemoryStatus.Buffer getType(IntBuffer dst) { gather(NkMemoryStatus.TYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
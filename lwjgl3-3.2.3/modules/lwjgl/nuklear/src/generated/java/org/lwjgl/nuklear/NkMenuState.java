@@ -178,6 +178,23 @@ public class NkMenuState extends Struct {
         @NativeType("struct nk_scroll")
         public NkScroll offset() { return NkMenuState.noffset(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public NkMenuState.Buffer getX(float[] dst) { gather(NkMenuState.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public NkMenuState.Buffer getX(FloatBuffer dst) { gather(NkMenuState.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public NkMenuState.Buffer getY(float[] dst) { gather(NkMenuState.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public NkMenuState.Buffer getY(FloatBuffer dst) { gather(NkMenuState.Y, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public NkMenuState.Buffer getW(float[] dst) { gather(NkMenuState.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public NkMenuState.Buffer getW(FloatBuffer dst) { gather(NkMenuState.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public NkMenuState.Buffer getH(float[] dst) { gather(NkMenuState.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public NkMenuState.Buffer getH(FloatBuffer dst) { gather(NkMenuState.H, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -160,6 +160,15 @@ public class NkMouseButton extends Struct {
         @NativeType("struct nk_vec2")
         public NkVec2 clicked_pos() { return NkMouseButton.nclicked_pos(address()); }
 
+        /** Copies the {@code down} field of the structs between the current position and limit to the specified array. */
+        public NkMouseButton.Buffer getDown(int[] dst) { gather(NkMouseButton.DOWN, dst); return this; }
+        /** Copies the {@code down} field of the structs between the current position and limit to the specified buffer. */
+        public NkMouseButton.Buffer getDown(IntBuffer dst) { gather(NkMouseButton.DOWN, dst); return this; }
+        /** Copies the {@code clicked} field of the structs between the current position and limit to the specified array. */
+        public NkMouseButton.Buffer getClicked(int[] dst) { gather(NkMouseButton.CLICKED, dst); return this; }
+        /** Copies the {@code clicked} field of the structs between the current position and limit to the specified buffer. */
+        public NkMouseButton.Buffer getClicked(IntBuffer dst) { gather(NkMouseButton.CLICKED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -352,6 +352,43 @@ public class NkPanel extends Struct {
         @NativeType("struct nk_panel *")
         public NkPanel parent() { return NkPanel.nparent(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getType(int[] dst) { gather(NkPanel.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getType(IntBuffer dst) { gather(NkPanel.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getFlags(int[] dst) { gather(NkPanel.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getFlags(IntBuffer dst) { gather(NkPanel.FLAGS, dst); return this; }
+        /** Copies the {@code at_x} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getAt_x(float[] dst) { gather(NkPanel.AT_X, dst); return this; }
+        /** Copies the {@code at_x} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getAt_x(FloatBuffer dst) { gather(NkPanel.AT_X, dst); return this; }
+        /** Copies the {@code at_y} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getAt_y(float[] dst) { gather(NkPanel.AT_Y, dst); return this; }
+        /** Copies the {@code at_y} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getAt_y(FloatBuffer dst) { gather(NkPanel.AT_Y, dst); return this; }
+        /** Copies the {@code max_x} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getMax_x(float[] dst) { gather(NkPanel.MAX_X, dst); return this; }
+        /** Copies the {@code max_x} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getMax_x(FloatBuffer dst) { gather(NkPanel.MAX_X, dst); return this; }
+        /** Copies the {@code footer_height} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getFooter_height(float[] dst) { gather(NkPanel.FOOTER_HEIGHT, dst); return this; }
+        /** Copies the {@code footer_height} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getFooter_height(FloatBuffer dst) { gather(NkPanel.FOOTER_HEIGHT, dst); return this; }
+        /** Copies the {@code header_height} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getHeader_height(float[] dst) { gather(NkPanel.HEADER_HEIGHT, dst); return this; }
+        /** Copies the {@code header_height} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getHeader_height(FloatBuffer dst) { gather(NkPanel.HEADER_HEIGHT, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getBorder(float[] dst) { gather(NkPanel.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getBorder(FloatBuffer dst) { gather(NkPanel.BORDER, dst); return this; }
+        /** Copies the {@code has_scrolling} field of the structs between the current position and limit to the specified array. */
+        public NkPanel.Buffer getHas_scrolling(int[] dst) { gather(NkPanel.HAS_SCROLLING, dst); return this; }
+        /** Copies the {@code has_scrolling} field of the structs between the current position and limit to the specified buffer. */
+        public NkPanel.Buffer getHas_scrolling(IntBuffer dst) { gather(NkPanel.HAS_SCROLLING, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -222,6 +222,19 @@ class NkPool extends Struct {
         @NativeType("nk_size")
         public long cap() { return NkPool.ncap(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkPool.Buffer getType(int[] dst) { gather(NkPool.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkPool.Buffer getType(IntBuffer dst) { gather(NkPool.TYPE, dst); return this; }
+        /** Copies the {@code page_count} field of the structs between the current position and limit to the specified array. */
+        public NkPool.Buffer getPage_count(int[] dst) { gather(NkPool.PAGE_COUNT, dst); return this; }
+        /** Copies the {@code page_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkPool.Buffer getPage_count(IntBuffer dst) { gather(NkPool.PAGE_COUNT, dst); return this; }
+        /** Copies the {@code capacity} field of the structs between the current position and limit to the specified array. */
+        public NkPool.Buffer getCapacity(int[] dst) { gather(NkPool.CAPACITY, dst); return this; }
+        /** Copies the {@code capacity} field of the structs between the current position and limit to the specified buffer. */
+        public NkPool.Buffer getCapacity(IntBuffer dst) { gather(NkPool.CAPACITY, dst); return this; }
+
     }
 
 }
\ No newline at end of file
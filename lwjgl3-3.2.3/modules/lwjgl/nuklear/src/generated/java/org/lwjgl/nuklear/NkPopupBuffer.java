@@ -184,6 +184,11 @@ public class NkPopupBuffer extends Struct {
         /** Returns the value of the {@code active} field. */
         public int active() { return NkPopupBuffer.nactive(address()); }
 
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified array. */
+        public NkPopupBuffer.Buffer getActive(int[] dst) { gather(NkPopupBuffer.ACTIVE, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupBuffer.Buffer getActive(IntBuffer dst) { gather(NkPopupBuffer.ACTIVE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -250,6 +250,35 @@ public class NkPopupState extends Struct {
         @NativeType("struct nk_rect")
         public NkRect header() { return NkPopupState.nheader(address()); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getType(int[] dst) { gather(NkPopupState.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getType(IntBuffer dst) { gather(NkPopupState.TYPE, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getName(int[] dst) { gather(NkPopupState.NAME, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getName(IntBuffer dst) { gather(NkPopupState.NAME, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getActive(int[] dst) { gather(NkPopupState.ACTIVE, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getActive(IntBuffer dst) { gather(NkPopupState.ACTIVE, dst); return this; }
+        /** Copies the {@code combo_count} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getCombo_count(int[] dst) { gather(NkPopupState.COMBO_COUNT, dst); return this; }
+        /** Copies the {@code combo_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getCombo_count(IntBuffer dst) { gather(NkPopupState.COMBO_COUNT, dst); return this; }
+        /** Copies the {@code con_count} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getCon_count(int[] dst) { gather(NkPopupState.CON_COUNT, dst); return this; }
+        /** Copies the {@code con_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getCon_count(IntBuffer dst) { gather(NkPopupState.CON_COUNT, dst); return this; }
+        /** Copies the {@code con_old} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getCon_old(int[] dst) { gather(NkPopupState.CON_OLD, dst); return this; }
+        /** Copies the {@code con_old} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getCon_old(IntBuffer dst) { gather(NkPopupState.CON_OLD, dst); return this; }
+        /** Copies the {@code active_con} field of the structs between the current position and limit to the specified array. */
+        public NkPopupState.Buffer getActive_con(int[] dst) { gather(NkPopupState.ACTIVE_CON, dst); return this; }
+        /** Copies the {@code active_con} field of the structs between the current position and limit to the specified buffer. */
+        public NkPopupState.Buffer getActive_con(IntBuffer dst) { gather(NkPopupState.ACTIVE_CON, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -257,6 +257,47 @@ public class NkPropertyState extends Struct {
         /** Returns the value of the {@code state} field. */
         public int state() { return NkPropertyState.nstate(address()); }
 
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getActive(int[] dst) { gather(NkPropertyState.ACTIVE, dst); return this; }
+        /** Copies the {@code active} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getActive(IntBuffer dst) { gather(NkPropertyState.ACTIVE, dst); return this; }
+        /** Copies the {@code prev} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getPrev(int[] dst) { gather(NkPropertyState.PREV, dst); return this; }
+        /** Copies the {@code prev} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getPrev(IntBuffer dst) { gather(NkPropertyState.PREV, dst); return this; }
+        /** Copies the {@code length} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getLength(int[] dst) { gather(NkPropertyState.LENGTH, dst); return this; }
+        /** Copies the {@code length} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getLength(IntBuffer dst) { gather(NkPropertyState.LENGTH, dst); return this; }
+        /** Copies the {@code cursor} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getCursor(int[] dst) { gather(NkPropertyState.CURSOR, dst); return this; }
+        /** Copies the {@code cursor} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getCursor(IntBuffer dst) { gather(NkPropertyState.CURSOR, dst); return this; }
+        /** Copies the {@code select_start} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getSelect_start(int[] dst) { gather(NkPropertyState.SELECT_START, dst); return this; }
+        /** Copies the {@code select_start} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getSelect_start(IntBuffer dst) { gather(NkPropertyState.SELECT_START, dst); return this; }
+        /** Copies the {@code select_end} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getSelect_end(int[] dst) { gather(NkPropertyState.SELECT_END, dst); return this; }
+        /** Copies the {@code select_end} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getSelect_end(IntBuffer dst) { gather(NkPropertyState.SELECT_END, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getName(int[] dst) { gather(NkPropertyState.NAME, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getName(IntBuffer dst) { gather(NkPropertyState.NAME, dst); return this; }
+        /** Copies the {@code seq} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getSeq(int[] dst) { gather(NkPropertyState.SEQ, dst); return this; }
+        /** Copies the {@code seq} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getSeq(IntBuffer dst) { gather(NkPropertyState.SEQ, dst); return this; }
+        /** Copies the {@code old} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getOld(int[] dst) { gather(NkPropertyState.OLD, dst); return this; }
+        /** Copies the {@code old} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getOld(IntBuffer dst) { gather(NkPropertyState.OLD, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified array. */
+        public NkPropertyState.Buffer getState(int[] dst) { gather(NkPropertyState.STATE, dst); return this; }
+        /** Copies the {@code state} field of the structs between the current position and limit to the specified buffer. */
+        public NkPropertyState.Buffer getState(IntBuffer dst) { gather(NkPropertyState.STATE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -220,6 +220,24 @@ public class NkRect extends Struct implements NativeResource {
         return wrap(NkRect.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkRect} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkRect malloc(MemoryArena arena) {
+        return wrap(NkRect.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkRect} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkRect calloc(MemoryArena arena) {
+        return wrap(NkRect.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkRect.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class NkRect extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkRect.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkRect.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkRect.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkRect.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -334,6 +372,40 @@ public class NkRect extends Struct implements NativeResource {
         /** Sets the specified value to the {@code h} field. */
         public NkRect.Buffer h(float value) { NkRect.nh(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public NkRect.Buffer getX(float[] dst) { gather(NkRect.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public NkRect.Buffer getX(FloatBuffer dst) { gather(NkRect.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public NkRect.Buffer getY(float[] dst) { gather(NkRect.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public NkRect.Buffer getY(FloatBuffer dst) { gather(NkRect.Y, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public NkRect.Buffer getW(float[] dst) { gather(NkRect.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public NkRect.Buffer getW(FloatBuffer dst) { gather(NkRect.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public NkRect.Buffer getH(float[] dst) { gather(NkRect.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public NkRect.Buffer getH(FloatBuffer dst) { gather(NkRect.H, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public NkRect.Buffer putX(float[] src) { scatter(NkRect.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public NkRect.Buffer putX(FloatBuffer src) { scatter(NkRect.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public NkRect.Buffer putY(float[] src) { scatter(NkRect.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public NkRect.Buffer putY(FloatBuffer src) { scatter(NkRect.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public NkRect.Buffer putW(float[] src) { scatter(NkRect.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public NkRect.Buffer putW(FloatBuffer src) { scatter(NkRect.W, src); return this; }
+        /** Copies the values in the specified array to the {@code h} field of the structs between the current position and limit. */
+        public NkRect.Buffer putH(float[] src) { scatter(NkRect.H, src); return this; }
+        /** Copies the values in the specified buffer to the {@code h} field of the structs between the current position and limit. */
+        public NkRect.Buffer putH(FloatBuffer src) { scatter(NkRect.H, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -287,6 +287,47 @@ public class NkRowLayout extends Struct {
         /** Returns the value at the specified index of the {@code templates} field. */
         public float templates(int index) { return NkRowLayout.ntemplates(address(), index); }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getType(int[] dst) { gather(NkRowLayout.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getType(IntBuffer dst) { gather(NkRowLayout.TYPE, dst); return this; }
+        /** Copies the {@code index} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getIndex(int[] dst) { gather(NkRowLayout.INDEX, dst); return this; }
+        /** Copies the {@code index} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getIndex(IntBuffer dst) { gather(NkRowLayout.INDEX, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getHeight(float[] dst) { gather(NkRowLayout.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getHeight(FloatBuffer dst) { gather(NkRowLayout.HEIGHT, dst); return this; }
+        /** Copies the {@code min_height} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getMin_height(float[] dst) { gather(NkRowLayout.MIN_HEIGHT, dst); return this; }
+        /** Copies the {@code min_height} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getMin_height(FloatBuffer dst) { gather(NkRowLayout.MIN_HEIGHT, dst); return this; }
+        /** Copies the {@code columns} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getColumns(int[] dst) { gather(NkRowLayout.COLUMNS, dst); return this; }
+        /** Copies the {@code columns} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getColumns(IntBuffer dst) { gather(NkRowLayout.COLUMNS, dst); return this; }
+        /** Copies the {@code item_width} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getItem_width(float[] dst) { gather(NkRowLayout.ITEM_WIDTH, dst); return this; }
+        /** Copies the {@code item_width} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getItem_width(FloatBuffer dst) { gather(NkRowLayout.ITEM_WIDTH, dst); return this; }
+        /** Copies the {@code item_height} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getItem_height(float[] dst) { gather(NkRowLayout.ITEM_HEIGHT, dst); return this; }
+        /** Copies the {@code item_height} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getItem_height(FloatBuffer dst) { gather(NkRowLayout.ITEM_HEIGHT, dst); return this; }
+        /** Copies the {@code item_offset} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getItem_offset(float[] dst) { gather(NkRowLayout.ITEM_OFFSET, dst); return this; }
+        /** Copies the {@code item_offset} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getItem_offset(FloatBuffer dst) { gather(NkRowLayout.ITEM_OFFSET, dst); return this; }
+        /** Copies the {@code filled} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getFilled(float[] dst) { gather(NkRowLayout.FILLED, dst); return this; }
+        /** Copies the {@code filled} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getFilled(FloatBuffer dst) { gather(NkRowLayout.FILLED, dst); return this; }
+        /** Copies the {@code tree_depth} field of the structs between the current position and limit to the specified array. */
+        public NkRowLayout.Buffer getTree_depth(int[] dst) { gather(NkRowLayout.TREE_DEPTH, dst); return this; }
+        /** Copies the {@code tree_depth} field of the structs between the current position and limit to the specified buffer. */
+        public NkRowLayout.Buffer getTree_depth(IntBuffer dst) { gather(NkRowLayout.TREE_DEPTH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
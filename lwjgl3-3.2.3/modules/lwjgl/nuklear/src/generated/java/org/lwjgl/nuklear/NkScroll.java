@@ -174,6 +174,24 @@ public class NkScroll extends Struct implements NativeResource {
         return wrap(NkScroll.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkScroll} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkScroll malloc(MemoryArena arena) {
+        return wrap(NkScroll.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkScroll} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkScroll calloc(MemoryArena arena) {
+        return wrap(NkScroll.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkScroll.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -212,6 +230,26 @@ public class NkScroll extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkScroll.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkScroll.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkScroll.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkScroll.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -264,6 +302,15 @@ public class NkScroll extends Struct implements NativeResource {
         @NativeType("nk_uint")
         public int y() { return NkScroll.ny(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public NkScroll.Buffer getX(int[] dst) { gather(NkScroll.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public NkScroll.Buffer getX(IntBuffer dst) { gather(NkScroll.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public NkScroll.Buffer getY(int[] dst) { gather(NkScroll.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public NkScroll.Buffer getY(IntBuffer dst) { gather(NkScroll.Y, dst); return this; }
+
     }
 
 }
\ No newline at end of file
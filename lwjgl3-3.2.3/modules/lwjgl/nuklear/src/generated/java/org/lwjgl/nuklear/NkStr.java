@@ -184,6 +184,24 @@ public class NkStr extends Struct implements NativeResource {
         return wrap(NkStr.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStr} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStr malloc(MemoryArena arena) {
+        return wrap(NkStr.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStr} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStr calloc(MemoryArena arena) {
+        return wrap(NkStr.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStr.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -222,6 +240,26 @@ public class NkStr extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStr.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStr.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStr.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStr.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #buffer}. */
@@ -273,6 +311,11 @@ public class NkStr extends Struct implements NativeResource {
         /** Returns the value of the {@code len} field. */
         public int len() { return NkStr.nlen(address()); }
 
+        /** Copies the {@code len} field of the structs between the current position and limit to the specified array. */
+        public NkStr.Buffer getLen(int[] dst) { gather(NkStr.LEN, dst); return this; }
+        /** Copies the {@code len} field of the structs between the current position and limit to the specified buffer. */
+        public NkStr.Buffer getLen(IntBuffer dst) { gather(NkStr.LEN, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -391,6 +391,24 @@ public class NkStyleButton extends Struct implements NativeResource {
         return wrap(NkStyleButton.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleButton} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleButton malloc(MemoryArena arena) {
+        return wrap(NkStyleButton.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleButton} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleButton calloc(MemoryArena arena) {
+        return wrap(NkStyleButton.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleButton.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -429,6 +447,26 @@ public class NkStyleButton extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleButton.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleButton.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleButton.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleButton.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -650,6 +688,32 @@ public class NkStyleButton extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleButton.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleButton.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code text_alignment} field of the structs between the current position and limit to the specified array. */
+        public NkStyleButton.Buffer getText_alignment(int[] dst) { gather(NkStyleButton.TEXT_ALIGNMENT, dst); return this; }
+        /** Copies the {@code text_alignment} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleButton.Buffer getText_alignment(IntBuffer dst) { gather(NkStyleButton.TEXT_ALIGNMENT, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleButton.Buffer getBorder(float[] dst) { gather(NkStyleButton.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleButton.Buffer getBorder(FloatBuffer dst) { gather(NkStyleButton.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleButton.Buffer getRounding(float[] dst) { gather(NkStyleButton.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleButton.Buffer getRounding(FloatBuffer dst) { gather(NkStyleButton.ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code text_alignment} field of the structs between the current position and limit. */
+        public NkStyleButton.Buffer putText_alignment(int[] src) { scatter(NkStyleButton.TEXT_ALIGNMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code text_alignment} field of the structs between the current position and limit. */
+        public NkStyleButton.Buffer putText_alignment(IntBuffer src) { scatter(NkStyleButton.TEXT_ALIGNMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleButton.Buffer putBorder(float[] src) { scatter(NkStyleButton.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleButton.Buffer putBorder(FloatBuffer src) { scatter(NkStyleButton.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleButton.Buffer putRounding(float[] src) { scatter(NkStyleButton.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleButton.Buffer putRounding(FloatBuffer src) { scatter(NkStyleButton.ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -265,6 +265,24 @@ public class NkStyleChart extends Struct implements NativeResource {
         return wrap(NkStyleChart.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleChart} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleChart malloc(MemoryArena arena) {
+        return wrap(NkStyleChart.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleChart} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleChart calloc(MemoryArena arena) {
+        return wrap(NkStyleChart.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleChart.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class NkStyleChart extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleChart.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleChart.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleChart.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleChart.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #background}. */
@@ -418,6 +456,24 @@ public class NkStyleChart extends Struct implements NativeResource {
         /** Passes the {@code padding} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkStyleChart.Buffer padding(java.util.function.Consumer<NkVec2> consumer) { consumer.accept(padding()); return this; }
 
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleChart.Buffer getBorder(float[] dst) { gather(NkStyleChart.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleChart.Buffer getBorder(FloatBuffer dst) { gather(NkStyleChart.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleChart.Buffer getRounding(float[] dst) { gather(NkStyleChart.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleChart.Buffer getRounding(FloatBuffer dst) { gather(NkStyleChart.ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleChart.Buffer putBorder(float[] src) { scatter(NkStyleChart.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleChart.Buffer putBorder(FloatBuffer src) { scatter(NkStyleChart.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleChart.Buffer putRounding(float[] src) { scatter(NkStyleChart.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleChart.Buffer putRounding(FloatBuffer src) { scatter(NkStyleChart.ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
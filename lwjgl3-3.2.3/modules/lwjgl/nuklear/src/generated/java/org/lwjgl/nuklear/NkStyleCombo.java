@@ -415,6 +415,24 @@ public class NkStyleCombo extends Struct implements NativeResource {
         return wrap(NkStyleCombo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleCombo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleCombo malloc(MemoryArena arena) {
+        return wrap(NkStyleCombo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleCombo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleCombo calloc(MemoryArena arena) {
+        return wrap(NkStyleCombo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleCombo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -453,6 +471,26 @@ public class NkStyleCombo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleCombo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleCombo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleCombo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleCombo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -694,6 +732,48 @@ public class NkStyleCombo extends Struct implements NativeResource {
         /** Passes the {@code spacing} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkStyleCombo.Buffer spacing(java.util.function.Consumer<NkVec2> consumer) { consumer.accept(spacing()); return this; }
 
+        /** Copies the {@code sym_normal} field of the structs between the current position and limit to the specified array. */
+        public NkStyleCombo.Buffer getSym_normal(int[] dst) { gather(NkStyleCombo.SYM_NORMAL, dst); return this; }
+        /** Copies the {@code sym_normal} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleCombo.Buffer getSym_normal(IntBuffer dst) { gather(NkStyleCombo.SYM_NORMAL, dst); return this; }
+        /** Copies the {@code sym_hover} field of the structs between the current position and limit to the specified array. */
+        public NkStyleCombo.Buffer getSym_hover(int[] dst) { gather(NkStyleCombo.SYM_HOVER, dst); return this; }
+        /** Copies the {@code sym_hover} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleCombo.Buffer getSym_hover(IntBuffer dst) { gather(NkStyleCombo.SYM_HOVER, dst); return this; }
+        /** Copies the {@code sym_active} field of the structs between the current position and limit to the specified array. */
+        public NkStyleCombo.Buffer getSym_active(int[] dst) { gather(NkStyleCombo.SYM_ACTIVE, dst); return this; }
+        /** Copies the {@code sym_active} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleCombo.Buffer getSym_active(IntBuffer dst) { gather(NkStyleCombo.SYM_ACTIVE, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleCombo.Buffer getBorder(float[] dst) { gather(NkStyleCombo.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleCombo.Buffer getBorder(FloatBuffer dst) { gather(NkStyleCombo.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleCombo.Buffer getRounding(float[] dst) { gather(NkStyleCombo.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleCombo.Buffer getRounding(FloatBuffer dst) { gather(NkStyleCombo.ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sym_normal} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putSym_normal(int[] src) { scatter(NkStyleCombo.SYM_NORMAL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_normal} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putSym_normal(IntBuffer src) { scatter(NkStyleCombo.SYM_NORMAL, src); return this; }
+        /** Copies the values in the specified array to the {@code sym_hover} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putSym_hover(int[] src) { scatter(NkStyleCombo.SYM_HOVER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_hover} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putSym_hover(IntBuffer src) { scatter(NkStyleCombo.SYM_HOVER, src); return this; }
+        /** Copies the values in the specified array to the {@code sym_active} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putSym_active(int[] src) { scatter(NkStyleCombo.SYM_ACTIVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_active} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putSym_active(IntBuffer src) { scatter(NkStyleCombo.SYM_ACTIVE, src); return this; }
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putBorder(float[] src) { scatter(NkStyleCombo.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putBorder(FloatBuffer src) { scatter(NkStyleCombo.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putRounding(float[] src) { scatter(NkStyleCombo.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleCombo.Buffer putRounding(FloatBuffer src) { scatter(NkStyleCombo.ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -454,6 +454,24 @@ public class NkStyleEdit extends Struct implements NativeResource {
         return wrap(NkStyleEdit.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleEdit} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleEdit malloc(MemoryArena arena) {
+        return wrap(NkStyleEdit.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleEdit} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleEdit calloc(MemoryArena arena) {
+        return wrap(NkStyleEdit.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleEdit.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -492,6 +510,26 @@ public class NkStyleEdit extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleEdit.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleEdit.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleEdit.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleEdit.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -766,6 +804,40 @@ public class NkStyleEdit extends Struct implements NativeResource {
         /** Sets the specified value to the {@code row_padding} field. */
         public NkStyleEdit.Buffer row_padding(float value) { NkStyleEdit.nrow_padding(address(), value); return this; }
 
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleEdit.Buffer getBorder(float[] dst) { gather(NkStyleEdit.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleEdit.Buffer getBorder(FloatBuffer dst) { gather(NkStyleEdit.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleEdit.Buffer getRounding(float[] dst) { gather(NkStyleEdit.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleEdit.Buffer getRounding(FloatBuffer dst) { gather(NkStyleEdit.ROUNDING, dst); return this; }
+        /** Copies the {@code cursor_size} field of the structs between the current position and limit to the specified array. */
+        public NkStyleEdit.Buffer getCursor_size(float[] dst) { gather(NkStyleEdit.CURSOR_SIZE, dst); return this; }
+        /** Copies the {@code cursor_size} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleEdit.Buffer getCursor_size(FloatBuffer dst) { gather(NkStyleEdit.CURSOR_SIZE, dst); return this; }
+        /** Copies the {@code row_padding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleEdit.Buffer getRow_padding(float[] dst) { gather(NkStyleEdit.ROW_PADDING, dst); return this; }
+        /** Copies the {@code row_padding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleEdit.Buffer getRow_padding(FloatBuffer dst) { gather(NkStyleEdit.ROW_PADDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putBorder(float[] src) { scatter(NkStyleEdit.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putBorder(FloatBuffer src) { scatter(NkStyleEdit.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putRounding(float[] src) { scatter(NkStyleEdit.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putRounding(FloatBuffer src) { scatter(NkStyleEdit.ROUNDING, src); return this; }
+        /** Copies the values in the specified array to the {@code cursor_size} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putCursor_size(float[] src) { scatter(NkStyleEdit.CURSOR_SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cursor_size} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putCursor_size(FloatBuffer src) { scatter(NkStyleEdit.CURSOR_SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code row_padding} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putRow_padding(float[] src) { scatter(NkStyleEdit.ROW_PADDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code row_padding} field of the structs between the current position and limit. */
+        public NkStyleEdit.Buffer putRow_padding(FloatBuffer src) { scatter(NkStyleEdit.ROW_PADDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -211,6 +211,24 @@ public class NkStyleItem extends Struct implements NativeResource {
         return wrap(NkStyleItem.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleItem} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleItem malloc(MemoryArena arena) {
+        return wrap(NkStyleItem.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleItem} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleItem calloc(MemoryArena arena) {
+        return wrap(NkStyleItem.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleItem.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -249,6 +267,26 @@ public class NkStyleItem extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleItem.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleItem.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleItem.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleItem.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -313,6 +351,16 @@ public class NkStyleItem extends Struct implements NativeResource {
         /** Passes the {@code data} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkStyleItem.Buffer data(java.util.function.Consumer<NkStyleItemData> consumer) { consumer.accept(data()); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public NkStyleItem.Buffer getType(int[] dst) { gather(NkStyleItem.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleItem.Buffer getType(IntBuffer dst) { gather(NkStyleItem.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public NkStyleItem.Buffer putType(int[] src) { scatter(NkStyleItem.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public NkStyleItem.Buffer putType(IntBuffer src) { scatter(NkStyleItem.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -374,6 +374,24 @@ public class NkStyleProgress extends Struct implements NativeResource {
         return wrap(NkStyleProgress.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleProgress} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleProgress malloc(MemoryArena arena) {
+        return wrap(NkStyleProgress.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleProgress} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleProgress calloc(MemoryArena arena) {
+        return wrap(NkStyleProgress.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleProgress.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -412,6 +430,26 @@ public class NkStyleProgress extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleProgress.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleProgress.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleProgress.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleProgress.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -618,6 +656,40 @@ public class NkStyleProgress extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleProgress.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleProgress.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProgress.Buffer getRounding(float[] dst) { gather(NkStyleProgress.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProgress.Buffer getRounding(FloatBuffer dst) { gather(NkStyleProgress.ROUNDING, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProgress.Buffer getBorder(float[] dst) { gather(NkStyleProgress.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProgress.Buffer getBorder(FloatBuffer dst) { gather(NkStyleProgress.BORDER, dst); return this; }
+        /** Copies the {@code cursor_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProgress.Buffer getCursor_border(float[] dst) { gather(NkStyleProgress.CURSOR_BORDER, dst); return this; }
+        /** Copies the {@code cursor_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProgress.Buffer getCursor_border(FloatBuffer dst) { gather(NkStyleProgress.CURSOR_BORDER, dst); return this; }
+        /** Copies the {@code cursor_rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProgress.Buffer getCursor_rounding(float[] dst) { gather(NkStyleProgress.CURSOR_ROUNDING, dst); return this; }
+        /** Copies the {@code cursor_rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProgress.Buffer getCursor_rounding(FloatBuffer dst) { gather(NkStyleProgress.CURSOR_ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putRounding(float[] src) { scatter(NkStyleProgress.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putRounding(FloatBuffer src) { scatter(NkStyleProgress.ROUNDING, src); return this; }
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putBorder(float[] src) { scatter(NkStyleProgress.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putBorder(FloatBuffer src) { scatter(NkStyleProgress.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code cursor_border} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putCursor_border(float[] src) { scatter(NkStyleProgress.CURSOR_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cursor_border} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putCursor_border(FloatBuffer src) { scatter(NkStyleProgress.CURSOR_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code cursor_rounding} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putCursor_rounding(float[] src) { scatter(NkStyleProgress.CURSOR_ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cursor_rounding} field of the structs between the current position and limit. */
+        public NkStyleProgress.Buffer putCursor_rounding(FloatBuffer src) { scatter(NkStyleProgress.CURSOR_ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
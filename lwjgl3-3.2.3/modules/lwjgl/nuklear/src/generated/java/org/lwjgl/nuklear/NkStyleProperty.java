@@ -409,6 +409,24 @@ public class NkStyleProperty extends Struct implements NativeResource {
         return wrap(NkStyleProperty.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleProperty} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleProperty malloc(MemoryArena arena) {
+        return wrap(NkStyleProperty.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleProperty} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleProperty calloc(MemoryArena arena) {
+        return wrap(NkStyleProperty.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleProperty.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -447,6 +465,26 @@ public class NkStyleProperty extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleProperty.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleProperty.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleProperty.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleProperty.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -677,6 +715,40 @@ public class NkStyleProperty extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleProperty.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleProperty.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code sym_left} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProperty.Buffer getSym_left(int[] dst) { gather(NkStyleProperty.SYM_LEFT, dst); return this; }
+        /** Copies the {@code sym_left} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProperty.Buffer getSym_left(IntBuffer dst) { gather(NkStyleProperty.SYM_LEFT, dst); return this; }
+        /** Copies the {@code sym_right} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProperty.Buffer getSym_right(int[] dst) { gather(NkStyleProperty.SYM_RIGHT, dst); return this; }
+        /** Copies the {@code sym_right} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProperty.Buffer getSym_right(IntBuffer dst) { gather(NkStyleProperty.SYM_RIGHT, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProperty.Buffer getBorder(float[] dst) { gather(NkStyleProperty.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProperty.Buffer getBorder(FloatBuffer dst) { gather(NkStyleProperty.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleProperty.Buffer getRounding(float[] dst) { gather(NkStyleProperty.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleProperty.Buffer getRounding(FloatBuffer dst) { gather(NkStyleProperty.ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sym_left} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putSym_left(int[] src) { scatter(NkStyleProperty.SYM_LEFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_left} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putSym_left(IntBuffer src) { scatter(NkStyleProperty.SYM_LEFT, src); return this; }
+        /** Copies the values in the specified array to the {@code sym_right} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putSym_right(int[] src) { scatter(NkStyleProperty.SYM_RIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_right} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putSym_right(IntBuffer src) { scatter(NkStyleProperty.SYM_RIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putBorder(float[] src) { scatter(NkStyleProperty.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putBorder(FloatBuffer src) { scatter(NkStyleProperty.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putRounding(float[] src) { scatter(NkStyleProperty.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleProperty.Buffer putRounding(FloatBuffer src) { scatter(NkStyleProperty.ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
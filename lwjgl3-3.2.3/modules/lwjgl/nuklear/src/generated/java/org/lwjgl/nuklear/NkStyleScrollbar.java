@@ -439,6 +439,24 @@ public class NkStyleScrollbar extends Struct implements NativeResource {
         return wrap(NkStyleScrollbar.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleScrollbar} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleScrollbar malloc(MemoryArena arena) {
+        return wrap(NkStyleScrollbar.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleScrollbar} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleScrollbar calloc(MemoryArena arena) {
+        return wrap(NkStyleScrollbar.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleScrollbar.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -477,6 +495,26 @@ public class NkStyleScrollbar extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleScrollbar.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleScrollbar.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleScrollbar.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleScrollbar.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -731,6 +769,64 @@ public class NkStyleScrollbar extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleScrollbar.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleScrollbar.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getBorder(float[] dst) { gather(NkStyleScrollbar.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getBorder(FloatBuffer dst) { gather(NkStyleScrollbar.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getRounding(float[] dst) { gather(NkStyleScrollbar.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getRounding(FloatBuffer dst) { gather(NkStyleScrollbar.ROUNDING, dst); return this; }
+        /** Copies the {@code border_cursor} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getBorder_cursor(float[] dst) { gather(NkStyleScrollbar.BORDER_CURSOR, dst); return this; }
+        /** Copies the {@code border_cursor} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getBorder_cursor(FloatBuffer dst) { gather(NkStyleScrollbar.BORDER_CURSOR, dst); return this; }
+        /** Copies the {@code rounding_cursor} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getRounding_cursor(float[] dst) { gather(NkStyleScrollbar.ROUNDING_CURSOR, dst); return this; }
+        /** Copies the {@code rounding_cursor} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getRounding_cursor(FloatBuffer dst) { gather(NkStyleScrollbar.ROUNDING_CURSOR, dst); return this; }
+        /** Copies the {@code show_buttons} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getShow_buttons(int[] dst) { gather(NkStyleScrollbar.SHOW_BUTTONS, dst); return this; }
+        /** Copies the {@code show_buttons} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getShow_buttons(IntBuffer dst) { gather(NkStyleScrollbar.SHOW_BUTTONS, dst); return this; }
+        /** Copies the {@code inc_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getInc_symbol(int[] dst) { gather(NkStyleScrollbar.INC_SYMBOL, dst); return this; }
+        /** Copies the {@code inc_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getInc_symbol(IntBuffer dst) { gather(NkStyleScrollbar.INC_SYMBOL, dst); return this; }
+        /** Copies the {@code dec_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleScrollbar.Buffer getDec_symbol(int[] dst) { gather(NkStyleScrollbar.DEC_SYMBOL, dst); return this; }
+        /** Copies the {@code dec_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleScrollbar.Buffer getDec_symbol(IntBuffer dst) { gather(NkStyleScrollbar.DEC_SYMBOL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putBorder(float[] src) { scatter(NkStyleScrollbar.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putBorder(FloatBuffer src) { scatter(NkStyleScrollbar.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putRounding(float[] src) { scatter(NkStyleScrollbar.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putRounding(FloatBuffer src) { scatter(NkStyleScrollbar.ROUNDING, src); return this; }
+        /** Copies the values in the specified array to the {@code border_cursor} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putBorder_cursor(float[] src) { scatter(NkStyleScrollbar.BORDER_CURSOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border_cursor} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putBorder_cursor(FloatBuffer src) { scatter(NkStyleScrollbar.BORDER_CURSOR, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding_cursor} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putRounding_cursor(float[] src) { scatter(NkStyleScrollbar.ROUNDING_CURSOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding_cursor} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putRounding_cursor(FloatBuffer src) { scatter(NkStyleScrollbar.ROUNDING_CURSOR, src); return this; }
+        /** Copies the values in the specified array to the {@code show_buttons} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putShow_buttons(int[] src) { scatter(NkStyleScrollbar.SHOW_BUTTONS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code show_buttons} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putShow_buttons(IntBuffer src) { scatter(NkStyleScrollbar.SHOW_BUTTONS, src); return this; }
+        /** Copies the values in the specified array to the {@code inc_symbol} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putInc_symbol(int[] src) { scatter(NkStyleScrollbar.INC_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code inc_symbol} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putInc_symbol(IntBuffer src) { scatter(NkStyleScrollbar.INC_SYMBOL, src); return this; }
+        /** Copies the values in the specified array to the {@code dec_symbol} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putDec_symbol(int[] src) { scatter(NkStyleScrollbar.DEC_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dec_symbol} field of the structs between the current position and limit. */
+        public NkStyleScrollbar.Buffer putDec_symbol(IntBuffer src) { scatter(NkStyleScrollbar.DEC_SYMBOL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -446,6 +446,24 @@ public class NkStyleSelectable extends Struct implements NativeResource {
         return wrap(NkStyleSelectable.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleSelectable} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleSelectable malloc(MemoryArena arena) {
+        return wrap(NkStyleSelectable.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleSelectable} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleSelectable calloc(MemoryArena arena) {
+        return wrap(NkStyleSelectable.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleSelectable.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -484,6 +502,26 @@ public class NkStyleSelectable extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleSelectable.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleSelectable.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleSelectable.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleSelectable.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -752,6 +790,24 @@ public class NkStyleSelectable extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleSelectable.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleSelectable.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code text_alignment} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSelectable.Buffer getText_alignment(int[] dst) { gather(NkStyleSelectable.TEXT_ALIGNMENT, dst); return this; }
+        /** Copies the {@code text_alignment} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSelectable.Buffer getText_alignment(IntBuffer dst) { gather(NkStyleSelectable.TEXT_ALIGNMENT, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSelectable.Buffer getRounding(float[] dst) { gather(NkStyleSelectable.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSelectable.Buffer getRounding(FloatBuffer dst) { gather(NkStyleSelectable.ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code text_alignment} field of the structs between the current position and limit. */
+        public NkStyleSelectable.Buffer putText_alignment(int[] src) { scatter(NkStyleSelectable.TEXT_ALIGNMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code text_alignment} field of the structs between the current position and limit. */
+        public NkStyleSelectable.Buffer putText_alignment(IntBuffer src) { scatter(NkStyleSelectable.TEXT_ALIGNMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleSelectable.Buffer putRounding(float[] src) { scatter(NkStyleSelectable.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleSelectable.Buffer putRounding(FloatBuffer src) { scatter(NkStyleSelectable.ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
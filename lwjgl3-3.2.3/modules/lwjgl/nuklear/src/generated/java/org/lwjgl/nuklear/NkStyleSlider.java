@@ -494,6 +494,24 @@ public class NkStyleSlider extends Struct implements NativeResource {
         return wrap(NkStyleSlider.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleSlider} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleSlider malloc(MemoryArena arena) {
+        return wrap(NkStyleSlider.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleSlider} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleSlider calloc(MemoryArena arena) {
+        return wrap(NkStyleSlider.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleSlider.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -532,6 +550,26 @@ public class NkStyleSlider extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleSlider.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleSlider.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleSlider.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleSlider.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -833,6 +871,56 @@ public class NkStyleSlider extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleSlider.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleSlider.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSlider.Buffer getBorder(float[] dst) { gather(NkStyleSlider.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSlider.Buffer getBorder(FloatBuffer dst) { gather(NkStyleSlider.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSlider.Buffer getRounding(float[] dst) { gather(NkStyleSlider.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSlider.Buffer getRounding(FloatBuffer dst) { gather(NkStyleSlider.ROUNDING, dst); return this; }
+        /** Copies the {@code bar_height} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSlider.Buffer getBar_height(float[] dst) { gather(NkStyleSlider.BAR_HEIGHT, dst); return this; }
+        /** Copies the {@code bar_height} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSlider.Buffer getBar_height(FloatBuffer dst) { gather(NkStyleSlider.BAR_HEIGHT, dst); return this; }
+        /** Copies the {@code show_buttons} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSlider.Buffer getShow_buttons(int[] dst) { gather(NkStyleSlider.SHOW_BUTTONS, dst); return this; }
+        /** Copies the {@code show_buttons} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSlider.Buffer getShow_buttons(IntBuffer dst) { gather(NkStyleSlider.SHOW_BUTTONS, dst); return this; }
+        /** Copies the {@code inc_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSlider.Buffer getInc_symbol(int[] dst) { gather(NkStyleSlider.INC_SYMBOL, dst); return this; }
+        /** Copies the {@code inc_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSlider.Buffer getInc_symbol(IntBuffer dst) { gather(NkStyleSlider.INC_SYMBOL, dst); return this; }
+        /** Copies the {@code dec_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleSlider.Buffer getDec_symbol(int[] dst) { gather(NkStyleSlider.DEC_SYMBOL, dst); return this; }
+        /** Copies the {@code dec_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleSlider.Buffer getDec_symbol(IntBuffer dst) { gather(NkStyleSlider.DEC_SYMBOL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putBorder(float[] src) { scatter(NkStyleSlider.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putBorder(FloatBuffer src) { scatter(NkStyleSlider.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putRounding(float[] src) { scatter(NkStyleSlider.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putRounding(FloatBuffer src) { scatter(NkStyleSlider.ROUNDING, src); return this; }
+        /** Copies the values in the specified array to the {@code bar_height} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putBar_height(float[] src) { scatter(NkStyleSlider.BAR_HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bar_height} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putBar_height(FloatBuffer src) { scatter(NkStyleSlider.BAR_HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code show_buttons} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putShow_buttons(int[] src) { scatter(NkStyleSlider.SHOW_BUTTONS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code show_buttons} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putShow_buttons(IntBuffer src) { scatter(NkStyleSlider.SHOW_BUTTONS, src); return this; }
+        /** Copies the values in the specified array to the {@code inc_symbol} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putInc_symbol(int[] src) { scatter(NkStyleSlider.INC_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code inc_symbol} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putInc_symbol(IntBuffer src) { scatter(NkStyleSlider.INC_SYMBOL, src); return this; }
+        /** Copies the values in the specified array to the {@code dec_symbol} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putDec_symbol(int[] src) { scatter(NkStyleSlider.DEC_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dec_symbol} field of the structs between the current position and limit. */
+        public NkStyleSlider.Buffer putDec_symbol(IntBuffer src) { scatter(NkStyleSlider.DEC_SYMBOL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -349,6 +349,24 @@ public class NkStyleTab extends Struct implements NativeResource {
         return wrap(NkStyleTab.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleTab} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleTab malloc(MemoryArena arena) {
+        return wrap(NkStyleTab.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleTab} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleTab calloc(MemoryArena arena) {
+        return wrap(NkStyleTab.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleTab.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -387,6 +405,26 @@ public class NkStyleTab extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleTab.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleTab.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleTab.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleTab.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #background}. */
@@ -572,6 +610,48 @@ public class NkStyleTab extends Struct implements NativeResource {
         /** Passes the {@code spacing} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkStyleTab.Buffer spacing(java.util.function.Consumer<NkVec2> consumer) { consumer.accept(spacing()); return this; }
 
+        /** Copies the {@code sym_minimize} field of the structs between the current position and limit to the specified array. */
+        public NkStyleTab.Buffer getSym_minimize(int[] dst) { gather(NkStyleTab.SYM_MINIMIZE, dst); return this; }
+        /** Copies the {@code sym_minimize} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleTab.Buffer getSym_minimize(IntBuffer dst) { gather(NkStyleTab.SYM_MINIMIZE, dst); return this; }
+        /** Copies the {@code sym_maximize} field of the structs between the current position and limit to the specified array. */
+        public NkStyleTab.Buffer getSym_maximize(int[] dst) { gather(NkStyleTab.SYM_MAXIMIZE, dst); return this; }
+        /** Copies the {@code sym_maximize} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleTab.Buffer getSym_maximize(IntBuffer dst) { gather(NkStyleTab.SYM_MAXIMIZE, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleTab.Buffer getBorder(float[] dst) { gather(NkStyleTab.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleTab.Buffer getBorder(FloatBuffer dst) { gather(NkStyleTab.BORDER, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleTab.Buffer getRounding(float[] dst) { gather(NkStyleTab.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleTab.Buffer getRounding(FloatBuffer dst) { gather(NkStyleTab.ROUNDING, dst); return this; }
+        /** Copies the {@code indent} field of the structs between the current position and limit to the specified array. */
+        public NkStyleTab.Buffer getIndent(float[] dst) { gather(NkStyleTab.INDENT, dst); return this; }
+        /** Copies the {@code indent} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleTab.Buffer getIndent(FloatBuffer dst) { gather(NkStyleTab.INDENT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sym_minimize} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putSym_minimize(int[] src) { scatter(NkStyleTab.SYM_MINIMIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_minimize} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putSym_minimize(IntBuffer src) { scatter(NkStyleTab.SYM_MINIMIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code sym_maximize} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putSym_maximize(int[] src) { scatter(NkStyleTab.SYM_MAXIMIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sym_maximize} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putSym_maximize(IntBuffer src) { scatter(NkStyleTab.SYM_MAXIMIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putBorder(float[] src) { scatter(NkStyleTab.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putBorder(FloatBuffer src) { scatter(NkStyleTab.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putRounding(float[] src) { scatter(NkStyleTab.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putRounding(FloatBuffer src) { scatter(NkStyleTab.ROUNDING, src); return this; }
+        /** Copies the values in the specified array to the {@code indent} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putIndent(float[] src) { scatter(NkStyleTab.INDENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indent} field of the structs between the current position and limit. */
+        public NkStyleTab.Buffer putIndent(FloatBuffer src) { scatter(NkStyleTab.INDENT, src); return this; }
+
     }
 
 }
\ No newline at end of file
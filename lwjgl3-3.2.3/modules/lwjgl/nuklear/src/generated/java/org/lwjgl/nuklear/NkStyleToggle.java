@@ -404,6 +404,24 @@ public class NkStyleToggle extends Struct implements NativeResource {
         return wrap(NkStyleToggle.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleToggle} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleToggle malloc(MemoryArena arena) {
+        return wrap(NkStyleToggle.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleToggle} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleToggle calloc(MemoryArena arena) {
+        return wrap(NkStyleToggle.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleToggle.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -442,6 +460,26 @@ public class NkStyleToggle extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleToggle.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleToggle.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleToggle.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleToggle.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -674,6 +712,32 @@ public class NkStyleToggle extends Struct implements NativeResource {
         /** Sets the specified value to the {@code draw_end} field. */
         public NkStyleToggle.Buffer draw_end(@Nullable @NativeType("nk_draw_end") NkDrawEndCallbackI value) { NkStyleToggle.ndraw_end(address(), value); return this; }
 
+        /** Copies the {@code text_alignment} field of the structs between the current position and limit to the specified array. */
+        public NkStyleToggle.Buffer getText_alignment(int[] dst) { gather(NkStyleToggle.TEXT_ALIGNMENT, dst); return this; }
+        /** Copies the {@code text_alignment} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleToggle.Buffer getText_alignment(IntBuffer dst) { gather(NkStyleToggle.TEXT_ALIGNMENT, dst); return this; }
+        /** Copies the {@code spacing} field of the structs between the current position and limit to the specified array. */
+        public NkStyleToggle.Buffer getSpacing(float[] dst) { gather(NkStyleToggle.SPACING, dst); return this; }
+        /** Copies the {@code spacing} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleToggle.Buffer getSpacing(FloatBuffer dst) { gather(NkStyleToggle.SPACING, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleToggle.Buffer getBorder(float[] dst) { gather(NkStyleToggle.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleToggle.Buffer getBorder(FloatBuffer dst) { gather(NkStyleToggle.BORDER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code text_alignment} field of the structs between the current position and limit. */
+        public NkStyleToggle.Buffer putText_alignment(int[] src) { scatter(NkStyleToggle.TEXT_ALIGNMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code text_alignment} field of the structs between the current position and limit. */
+        public NkStyleToggle.Buffer putText_alignment(IntBuffer src) { scatter(NkStyleToggle.TEXT_ALIGNMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code spacing} field of the structs between the current position and limit. */
+        public NkStyleToggle.Buffer putSpacing(float[] src) { scatter(NkStyleToggle.SPACING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code spacing} field of the structs between the current position and limit. */
+        public NkStyleToggle.Buffer putSpacing(FloatBuffer src) { scatter(NkStyleToggle.SPACING, src); return this; }
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleToggle.Buffer putBorder(float[] src) { scatter(NkStyleToggle.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleToggle.Buffer putBorder(FloatBuffer src) { scatter(NkStyleToggle.BORDER, src); return this; }
+
     }
 
 }
\ No newline at end of file
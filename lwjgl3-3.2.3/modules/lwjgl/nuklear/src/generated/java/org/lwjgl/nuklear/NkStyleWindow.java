@@ -543,6 +543,24 @@ public class NkStyleWindow extends Struct implements NativeResource {
         return wrap(NkStyleWindow.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleWindow} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleWindow malloc(MemoryArena arena) {
+        return wrap(NkStyleWindow.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleWindow} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleWindow calloc(MemoryArena arena) {
+        return wrap(NkStyleWindow.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleWindow.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -581,6 +599,26 @@ public class NkStyleWindow extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleWindow.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleWindow.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleWindow.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleWindow.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #header}. */
@@ -928,6 +966,80 @@ public class NkStyleWindow extends Struct implements NativeResource {
         /** Passes the {@code tooltip_padding} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkStyleWindow.Buffer tooltip_padding(java.util.function.Consumer<NkVec2> consumer) { consumer.accept(tooltip_padding()); return this; }
 
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getBorder(float[] dst) { gather(NkStyleWindow.BORDER, dst); return this; }
+        /** Copies the {@code border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getBorder(FloatBuffer dst) { gather(NkStyleWindow.BORDER, dst); return this; }
+        /** Copies the {@code combo_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getCombo_border(float[] dst) { gather(NkStyleWindow.COMBO_BORDER, dst); return this; }
+        /** Copies the {@code combo_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getCombo_border(FloatBuffer dst) { gather(NkStyleWindow.COMBO_BORDER, dst); return this; }
+        /** Copies the {@code contextual_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getContextual_border(float[] dst) { gather(NkStyleWindow.CONTEXTUAL_BORDER, dst); return this; }
+        /** Copies the {@code contextual_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getContextual_border(FloatBuffer dst) { gather(NkStyleWindow.CONTEXTUAL_BORDER, dst); return this; }
+        /** Copies the {@code menu_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getMenu_border(float[] dst) { gather(NkStyleWindow.MENU_BORDER, dst); return this; }
+        /** Copies the {@code menu_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getMenu_border(FloatBuffer dst) { gather(NkStyleWindow.MENU_BORDER, dst); return this; }
+        /** Copies the {@code group_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getGroup_border(float[] dst) { gather(NkStyleWindow.GROUP_BORDER, dst); return this; }
+        /** Copies the {@code group_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getGroup_border(FloatBuffer dst) { gather(NkStyleWindow.GROUP_BORDER, dst); return this; }
+        /** Copies the {@code tooltip_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getTooltip_border(float[] dst) { gather(NkStyleWindow.TOOLTIP_BORDER, dst); return this; }
+        /** Copies the {@code tooltip_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getTooltip_border(FloatBuffer dst) { gather(NkStyleWindow.TOOLTIP_BORDER, dst); return this; }
+        /** Copies the {@code popup_border} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getPopup_border(float[] dst) { gather(NkStyleWindow.POPUP_BORDER, dst); return this; }
+        /** Copies the {@code popup_border} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getPopup_border(FloatBuffer dst) { gather(NkStyleWindow.POPUP_BORDER, dst); return this; }
+        /** Copies the {@code min_row_height_padding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getMin_row_height_padding(float[] dst) { gather(NkStyleWindow.MIN_ROW_HEIGHT_PADDING, dst); return this; }
+        /** Copies the {@code min_row_height_padding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getMin_row_height_padding(FloatBuffer dst) { gather(NkStyleWindow.MIN_ROW_HEIGHT_PADDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindow.Buffer getRounding(float[] dst) { gather(NkStyleWindow.ROUNDING, dst); return this; }
+        /** Copies the {@code rounding} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindow.Buffer getRounding(FloatBuffer dst) { gather(NkStyleWindow.ROUNDING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putBorder(float[] src) { scatter(NkStyleWindow.BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putBorder(FloatBuffer src) { scatter(NkStyleWindow.BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code combo_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putCombo_border(float[] src) { scatter(NkStyleWindow.COMBO_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code combo_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putCombo_border(FloatBuffer src) { scatter(NkStyleWindow.COMBO_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code contextual_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putContextual_border(float[] src) { scatter(NkStyleWindow.CONTEXTUAL_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code contextual_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putContextual_border(FloatBuffer src) { scatter(NkStyleWindow.CONTEXTUAL_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code menu_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putMenu_border(float[] src) { scatter(NkStyleWindow.MENU_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code menu_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putMenu_border(FloatBuffer src) { scatter(NkStyleWindow.MENU_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code group_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putGroup_border(float[] src) { scatter(NkStyleWindow.GROUP_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code group_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putGroup_border(FloatBuffer src) { scatter(NkStyleWindow.GROUP_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code tooltip_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putTooltip_border(float[] src) { scatter(NkStyleWindow.TOOLTIP_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tooltip_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putTooltip_border(FloatBuffer src) { scatter(NkStyleWindow.TOOLTIP_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code popup_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putPopup_border(float[] src) { scatter(NkStyleWindow.POPUP_BORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code popup_border} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putPopup_border(FloatBuffer src) { scatter(NkStyleWindow.POPUP_BORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code min_row_height_padding} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putMin_row_height_padding(float[] src) { scatter(NkStyleWindow.MIN_ROW_HEIGHT_PADDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code min_row_height_padding} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putMin_row_height_padding(FloatBuffer src) { scatter(NkStyleWindow.MIN_ROW_HEIGHT_PADDING, src); return this; }
+        /** Copies the values in the specified array to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putRounding(float[] src) { scatter(NkStyleWindow.ROUNDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rounding} field of the structs between the current position and limit. */
+        public NkStyleWindow.Buffer putRounding(FloatBuffer src) { scatter(NkStyleWindow.ROUNDING, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -373,6 +373,24 @@ public class NkStyleWindowHeader extends Struct implements NativeResource {
         return wrap(NkStyleWindowHeader.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkStyleWindowHeader} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleWindowHeader malloc(MemoryArena arena) {
+        return wrap(NkStyleWindowHeader.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkStyleWindowHeader} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkStyleWindowHeader calloc(MemoryArena arena) {
+        return wrap(NkStyleWindowHeader.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkStyleWindowHeader.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -411,6 +429,26 @@ public class NkStyleWindowHeader extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkStyleWindowHeader.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleWindowHeader.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkStyleWindowHeader.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkStyleWindowHeader.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #normal}. */
@@ -612,6 +650,40 @@ public class NkStyleWindowHeader extends Struct implements NativeResource {
         /** Passes the {@code spacing} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkStyleWindowHeader.Buffer spacing(java.util.function.Consumer<NkVec2> consumer) { consumer.accept(spacing()); return this; }
 
+        /** Copies the {@code close_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindowHeader.Buffer getClose_symbol(int[] dst) { gather(NkStyleWindowHeader.CLOSE_SYMBOL, dst); return this; }
+        /** Copies the {@code close_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindowHeader.Buffer getClose_symbol(IntBuffer dst) { gather(NkStyleWindowHeader.CLOSE_SYMBOL, dst); return this; }
+        /** Copies the {@code minimize_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindowHeader.Buffer getMinimize_symbol(int[] dst) { gather(NkStyleWindowHeader.MINIMIZE_SYMBOL, dst); return this; }
+        /** Copies the {@code minimize_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindowHeader.Buffer getMinimize_symbol(IntBuffer dst) { gather(NkStyleWindowHeader.MINIMIZE_SYMBOL, dst); return this; }
+        /** Copies the {@code maximize_symbol} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindowHeader.Buffer getMaximize_symbol(int[] dst) { gather(NkStyleWindowHeader.MAXIMIZE_SYMBOL, dst); return this; }
+        /** Copies the {@code maximize_symbol} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindowHeader.Buffer getMaximize_symbol(IntBuffer dst) { gather(NkStyleWindowHeader.MAXIMIZE_SYMBOL, dst); return this; }
+        /** Copies the {@code align} field of the structs between the current position and limit to the specified array. */
+        public NkStyleWindowHeader.Buffer getAlign(int[] dst) { gather(NkStyleWindowHeader.ALIGN, dst); return this; }
+        /** Copies the {@code align} field of the structs between the current position and limit to the specified buffer. */
+        public NkStyleWindowHeader.Buffer getAlign(IntBuffer dst) { gather(NkStyleWindowHeader.ALIGN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code close_symbol} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putClose_symbol(int[] src) { scatter(NkStyleWindowHeader.CLOSE_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code close_symbol} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putClose_symbol(IntBuffer src) { scatter(NkStyleWindowHeader.CLOSE_SYMBOL, src); return this; }
+        /** Copies the values in the specified array to the {@code minimize_symbol} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putMinimize_symbol(int[] src) { scatter(NkStyleWindowHeader.MINIMIZE_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minimize_symbol} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putMinimize_symbol(IntBuffer src) { scatter(NkStyleWindowHeader.MINIMIZE_SYMBOL, src); return this; }
+        /** Copies the values in the specified array to the {@code maximize_symbol} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putMaximize_symbol(int[] src) { scatter(NkStyleWindowHeader.MAXIMIZE_SYMBOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maximize_symbol} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putMaximize_symbol(IntBuffer src) { scatter(NkStyleWindowHeader.MAXIMIZE_SYMBOL, src); return this; }
+        /** Copies the values in the specified array to the {@code align} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putAlign(int[] src) { scatter(NkStyleWindowHeader.ALIGN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code align} field of the structs between the current position and limit. */
+        public NkStyleWindowHeader.Buffer putAlign(IntBuffer src) { scatter(NkStyleWindowHeader.ALIGN, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -264,6 +264,24 @@ public class NkTextEdit extends Struct implements NativeResource {
         return wrap(NkTextEdit.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkTextEdit} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkTextEdit malloc(MemoryArena arena) {
+        return wrap(NkTextEdit.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkTextEdit} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkTextEdit calloc(MemoryArena arena) {
+        return wrap(NkTextEdit.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkTextEdit.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class NkTextEdit extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkTextEdit.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkTextEdit.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkTextEdit.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkTextEdit.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #clip}. */
@@ -416,6 +454,27 @@ public class NkTextEdit extends Struct implements NativeResource {
         @NativeType("struct nk_text_undo_state")
         public NkTextUndoState undo() { return NkTextEdit.nundo(address()); }
 
+        /** Copies the {@code cursor} field of the structs between the current position and limit to the specified array. */
+        public NkTextEdit.Buffer getCursor(int[] dst) { gather(NkTextEdit.CURSOR, dst); return this; }
+        /** Copies the {@code cursor} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextEdit.Buffer getCursor(IntBuffer dst) { gather(NkTextEdit.CURSOR, dst); return this; }
+        /** Copies the {@code select_start} field of the structs between the current position and limit to the specified array. */
+        public NkTextEdit.Buffer getSelect_start(int[] dst) { gather(NkTextEdit.SELECT_START, dst); return this; }
+        /** Copies the {@code select_start} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextEdit.Buffer getSelect_start(IntBuffer dst) { gather(NkTextEdit.SELECT_START, dst); return this; }
+        /** Copies the {@code select_end} field of the structs between the current position and limit to the specified array. */
+        public NkTextEdit.Buffer getSelect_end(int[] dst) { gather(NkTextEdit.SELECT_END, dst); return this; }
+        /** Copies the {@code select_end} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextEdit.Buffer getSelect_end(IntBuffer dst) { gather(NkTextEdit.SELECT_END, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified array. */
+        public NkTextEdit.Buffer getMode(byte[] dst) { gather(NkTextEdit.MODE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextEdit.Buffer getMode(ByteBuffer dst) { gather(NkTextEdit.MODE, dst); return this; }
+        /** Copies the {@code preferred_x} field of the structs between the current position and limit to the specified array. */
+        public NkTextEdit.Buffer getPreferred_x(float[] dst) { gather(NkTextEdit.PREFERRED_X, dst); return this; }
+        /** Copies the {@code preferred_x} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextEdit.Buffer getPreferred_x(FloatBuffer dst) { gather(NkTextEdit.PREFERRED_X, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -166,6 +166,23 @@ public class NkTextUndoRecord extends Struct {
         /** Returns the value of the {@code char_storage} field. */
         public short char_storage() { return NkTextUndoRecord.nchar_storage(address()); }
 
+        /** Copies the {@code where} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoRecord.Buffer getWhere(int[] dst) { gather(NkTextUndoRecord.WHERE, dst); return this; }
+        /** Copies the {@code where} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoRecord.Buffer getWhere(IntBuffer dst) { gather(NkTextUndoRecord.WHERE, dst); return this; }
+        /** Copies the {@code insert_length} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoRecord.Buffer getInsert_length(short[] dst) { gather(NkTextUndoRecord.INSERT_LENGTH, dst); return this; }
+        /** Copies the {@code insert_length} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoRecord.Buffer getInsert_length(ShortBuffer dst) { gather(NkTextUndoRecord.INSERT_LENGTH, dst); return this; }
+        /** Copies the {@code delete_length} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoRecord.Buffer getDelete_length(short[] dst) { gather(NkTextUndoRecord.DELETE_LENGTH, dst); return this; }
+        /** Copies the {@code delete_length} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoRecord.Buffer getDelete_length(ShortBuffer dst) { gather(NkTextUndoRecord.DELETE_LENGTH, dst); return this; }
+        /** Copies the {@code char_storage} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoRecord.Buffer getChar_storage(short[] dst) { gather(NkTextUndoRecord.CHAR_STORAGE, dst); return this; }
+        /** Copies the {@code char_storage} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoRecord.Buffer getChar_storage(ShortBuffer dst) { gather(NkTextUndoRecord.CHAR_STORAGE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -211,6 +211,23 @@ public class NkTextUndoState extends Struct {
         /** Returns the value of the {@code redo_char_point} field. */
         public short redo_char_point() { return NkTextUndoState.nredo_char_point(address()); }
 
+        /** Copies the {@code undo_point} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoState.Buffer getUndo_point(short[] dst) { gather(NkTextUndoState.UNDO_POINT, dst); return this; }
+        /** Copies the {@code undo_point} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoState.Buffer getUndo_point(ShortBuffer dst) { gather(NkTextUndoState.UNDO_POINT, dst); return this; }
+        /** Copies the {@code redo_point} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoState.Buffer getRedo_point(short[] dst) { gather(NkTextUndoState.REDO_POINT, dst); return this; }
+        /** Copies the {@code redo_point} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoState.Buffer getRedo_point(ShortBuffer dst) { gather(NkTextUndoState.REDO_POINT, dst); return this; }
+        /** Copies the {@code undo_char_point} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoState.Buffer getUndo_char_point(short[] dst) { gather(NkTextUndoState.UNDO_CHAR_POINT, dst); return this; }
+        /** Copies the {@code undo_char_point} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoState.Buffer getUndo_char_point(ShortBuffer dst) { gather(NkTextUndoState.UNDO_CHAR_POINT, dst); return this; }
+        /** Copies the {@code redo_char_point} field of the structs between the current position and limit to the specified array. */
+        public NkTextUndoState.Buffer getRedo_char_point(short[] dst) { gather(NkTextUndoState.REDO_CHAR_POINT, dst); return this; }
+        /** Copies the {@code redo_char_point} field of the structs between the current position and limit to the specified buffer. */
+        public NkTextUndoState.Buffer getRedo_char_point(ShortBuffer dst) { gather(NkTextUndoState.REDO_CHAR_POINT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
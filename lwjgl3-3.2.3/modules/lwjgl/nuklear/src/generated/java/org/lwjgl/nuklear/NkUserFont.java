@@ -250,6 +250,24 @@ public class NkUserFont extends Struct implements NativeResource {
         return wrap(NkUserFont.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkUserFont} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkUserFont malloc(MemoryArena arena) {
+        return wrap(NkUserFont.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkUserFont} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkUserFont calloc(MemoryArena arena) {
+        return wrap(NkUserFont.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkUserFont.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -288,6 +306,26 @@ public class NkUserFont extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkUserFont.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkUserFont.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkUserFont.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkUserFont.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #userdata}. */
@@ -382,6 +420,16 @@ public class NkUserFont extends Struct implements NativeResource {
         /** Passes the {@code texture} field to the specified {@link java.util.function.Consumer Consumer}. */
         public NkUserFont.Buffer texture(java.util.function.Consumer<NkHandle> consumer) { consumer.accept(texture()); return this; }
 
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public NkUserFont.Buffer getHeight(float[] dst) { gather(NkUserFont.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public NkUserFont.Buffer getHeight(FloatBuffer dst) { gather(NkUserFont.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public NkUserFont.Buffer putHeight(float[] src) { scatter(NkUserFont.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public NkUserFont.Buffer putHeight(FloatBuffer src) { scatter(NkUserFont.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -254,6 +254,24 @@ public class NkUserFontGlyph extends Struct implements NativeResource {
         return wrap(NkUserFontGlyph.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkUserFontGlyph} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkUserFontGlyph malloc(MemoryArena arena) {
+        return wrap(NkUserFontGlyph.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkUserFontGlyph} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkUserFontGlyph calloc(MemoryArena arena) {
+        return wrap(NkUserFontGlyph.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkUserFontGlyph.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class NkUserFontGlyph extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkUserFontGlyph.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkUserFontGlyph.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkUserFontGlyph.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkUserFontGlyph.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #uv}. */
@@ -400,6 +438,32 @@ public class NkUserFontGlyph extends Struct implements NativeResource {
         /** Sets the specified value to the {@code xadvance} field. */
         public NkUserFontGlyph.Buffer xadvance(float value) { NkUserFontGlyph.nxadvance(address(), value); return this; }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public NkUserFontGlyph.Buffer getWidth(float[] dst) { gather(NkUserFontGlyph.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public NkUserFontGlyph.Buffer getWidth(FloatBuffer dst) { gather(NkUserFontGlyph.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public NkUserFontGlyph.Buffer getHeight(float[] dst) { gather(NkUserFontGlyph.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public NkUserFontGlyph.Buffer getHeight(FloatBuffer dst) { gather(NkUserFontGlyph.HEIGHT, dst); return this; }
+        /** Copies the {@code xadvance} field of the structs between the current position and limit to the specified array. */
+        public NkUserFontGlyph.Buffer getXadvance(float[] dst) { gather(NkUserFontGlyph.XADVANCE, dst); return this; }
+        /** Copies the {@code xadvance} field of the structs between the current position and limit to the specified buffer. */
+        public NkUserFontGlyph.Buffer getXadvance(FloatBuffer dst) { gather(NkUserFontGlyph.XADVANCE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public NkUserFontGlyph.Buffer putWidth(float[] src) { scatter(NkUserFontGlyph.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public NkUserFontGlyph.Buffer putWidth(FloatBuffer src) { scatter(NkUserFontGlyph.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public NkUserFontGlyph.Buffer putHeight(float[] src) { scatter(NkUserFontGlyph.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public NkUserFontGlyph.Buffer putHeight(FloatBuffer src) { scatter(NkUserFontGlyph.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code xadvance} field of the structs between the current position and limit. */
+        public NkUserFontGlyph.Buffer putXadvance(float[] src) { scatter(NkUserFontGlyph.XADVANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code xadvance} field of the structs between the current position and limit. */
+        public NkUserFontGlyph.Buffer putXadvance(FloatBuffer src) { scatter(NkUserFontGlyph.XADVANCE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -200,6 +200,24 @@ public class NkVec2 extends Struct implements NativeResource {
         return wrap(NkVec2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NkVec2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkVec2 malloc(MemoryArena arena) {
+        return wrap(NkVec2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NkVec2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NkVec2 calloc(MemoryArena arena) {
+        return wrap(NkVec2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NkVec2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -238,6 +256,26 @@ public class NkVec2 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NkVec2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkVec2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NkVec2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NkVec2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -298,6 +336,24 @@ public class NkVec2 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public NkVec2.Buffer y(float value) { NkVec2.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public NkVec2.Buffer getX(float[] dst) { gather(NkVec2.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public NkVec2.Buffer getX(FloatBuffer dst) { gather(NkVec2.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public NkVec2.Buffer getY(float[] dst) { gather(NkVec2.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public NkVec2.Buffer getY(FloatBuffer dst) { gather(NkVec2.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public NkVec2.Buffer putX(float[] src) { scatter(NkVec2.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public NkVec2.Buffer putX(FloatBuffer src) { scatter(NkVec2.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public NkVec2.Buffer putY(float[] src) { scatter(NkVec2.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public NkVec2.Buffer putY(FloatBuffer src) { scatter(NkVec2.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -348,6 +348,31 @@ public class NkWindow extends Struct {
         @NativeType("struct nk_window *")
         public NkWindow parent() { return NkWindow.nparent(address()); }
 
+        /** Copies the {@code seq} field of the structs between the current position and limit to the specified array. */
+        public NkWindow.Buffer getSeq(int[] dst) { gather(NkWindow.SEQ, dst); return this; }
+        /** Copies the {@code seq} field of the structs between the current position and limit to the specified buffer. */
+        public NkWindow.Buffer getSeq(IntBuffer dst) { gather(NkWindow.SEQ, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified array. */
+        public NkWindow.Buffer getName(int[] dst) { gather(NkWindow.NAME, dst); return this; }
+        /** Copies the {@code name} field of the structs between the current position and limit to the specified buffer. */
+        public NkWindow.Buffer getName(IntBuffer dst) { gather(NkWindow.NAME, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public NkWindow.Buffer getFlags(int[] dst) { gather(NkWindow.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public NkWindow.Buffer getFlags(IntBuffer dst) { gather(NkWindow.FLAGS, dst); return this; }
+        /** Copies the {@code scrollbar_hiding_timer} field of the structs between the current position and limit to the specified array. */
+        public NkWindow.Buffer getScrollbar_hiding_timer(float[] dst) { gather(NkWindow.SCROLLBAR_HIDING_TIMER, dst); return this; }
+        /** Copies the {@code scrollbar_hiding_timer} field of the structs between the current position and limit to the specified buffer. */
+        public NkWindow.Buffer getScrollbar_hiding_timer(FloatBuffer dst) { gather(NkWindow.SCROLLBAR_HIDING_TIMER, dst); return this; }
+        /** Copies the {@code scrolled} field of the structs between the current position and limit to the specified array. */
+        public NkWindow.Buffer getScrolled(int[] dst) { gather(NkWindow.SCROLLED, dst); return this; }
+        /** Copies the {@code scrolled} field of the structs between the current position and limit to the specified buffer. */
+        public NkWindow.Buffer getScrolled(IntBuffer dst) { gather(NkWindow.SCROLLED, dst); return this; }
+        /** Copies the {@code table_count} field of the structs between the current position and limit to the specified array. */
+        public NkWindow.Buffer getTable_count(int[] dst) { gather(NkWindow.TABLE_COUNT, dst); return this; }
+        /** Copies the {@code table_count} field of the structs between the current position and limit to the specified buffer. */
+        public NkWindow.Buffer getTable_count(IntBuffer dst) { gather(NkWindow.TABLE_COUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
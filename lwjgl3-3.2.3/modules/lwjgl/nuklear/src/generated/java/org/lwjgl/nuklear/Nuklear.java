@@ -1214,6 +1214,8 @@ public class Nuklear {
         NK_WINDOW_MINIMIZED  = 1 << 15,
         NK_WINDOW_REMOVE_ROM = 1 << 16;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Nuklear.class, "nk_init_fixed,nk_init,nk_init_custom,nk_clear,nk_free,nk_set_user_data,nk_begin,nk_begin_titled,nk_end,nk_window_find,nk_window_get_bounds,nk_window_get_position,nk_window_get_size,nk_window_get_width,nk_window_get_height,nk_window_get_panel,nk_window_get_content_region,nk_window_get_content_region_min,nk_window_get_content_region_max,nk_window_get_content_region_size,nk_window_get_canvas,nk_window_get_scroll,nk_window_has_focus,nk_window_is_collapsed,nk_window_is_closed,nk_window_is_hidden,nk_window_is_active,nk_window_is_hovered,nk_window_is_any_hovered,nk_item_is_any_active,nk_window_set_bounds,nk_window_set_position,nk_window_set_size,nk_window_set_focus,nk_window_set_scroll,nk_window_close,nk_window_collapse,nk_window_collapse_if,nk_window_show,nk_window_show_if,nk_layout_set_min_row_height,nk_layout_reset_min_row_height,nk_layout_widget_bounds,nk_layout_ratio_from_pixel,nk_layout_row_dynamic,nk_layout_row_static,nk_layout_row_begin,nk_layout_row_push,nk_layout_row_end,nk_layout_row,nk_layout_row_template_begin,nk_layout_row_template_push_dynamic,nk_layout_row_template_push_variable,nk_layout_row_template_push_static,nk_layout_row_template_end,nk_layout_space_begin,nk_layout_space_push,nk_layout_space_end,nk_layout_space_bounds,nk_layout_space_to_screen,nk_layout_space_to_local,nk_layout_space_rect_to_screen,nk_layout_space_rect_to_local,nk_group_begin,nk_group_begin_titled,nk_group_end,nk_group_scrolled_offset_begin,nk_group_scrolled_begin,nk_group_scrolled_end,nk_group_get_scroll,nk_group_set_scroll,nk_list_view_begin,nk_list_view_end,nk_tree_push_hashed,nk_tree_image_push_hashed,nk_tree_pop,nk_tree_state_push,nk_tree_state_image_push,nk_tree_state_pop,nk_tree_element_push_hashed,nk_tree_element_image_push_hashed,nk_tree_element_pop,nk_text,nk_text_colored,nk_text_wrap,nk_text_wrap_colored,nk_label,nk_label_colored,nk_label_wrap,nk_label_colored_wrap,nk_image,nk_image_color,nk_button_set_behavior,nk_button_push_behavior,nk_button_pop_behavior,nk_button_text,nk_button_label,nk_button_color,nk_button_symbol,nk_button_image,nk_button_symbol_label,nk_button_symbol_text,nk_button_image_label,nk_button_image_text,nk_button_text_styled,nk_button_label_styled,nk_button_symbol_styled,nk_button_image_styled,nk_button_symbol_text_styled,nk_button_symbol_label_styled,nk_button_image_label_styled,nk_button_image_text_styled,nk_check_label,nk_check_text,nk_check_flags_label,nk_check_flags_text,nk_checkbox_label,nk_checkbox_text,nk_checkbox_flags_label,nk_checkbox_flags_text,nk_radio_label,nk_radio_text,nk_option_label,nk_option_text,nk_selectable_label,nk_selectable_text,nk_selectable_image_label,nk_selectable_image_text,nk_selectable_symbol_label,nk_selectable_symbol_text,nk_select_label,nk_select_text,nk_select_image_label,nk_select_image_text,nk_select_symbol_label,nk_select_symbol_text,nk_slide_float,nk_slide_int,nk_slider_float,nk_slider_int,nk_progress,nk_prog,nk_color_picker,nk_color_pick,nk_property_int,nk_property_float,nk_property_double,nk_propertyi,nk_propertyf,nk_propertyd,nk_edit_focus,nk_edit_unfocus,nk_edit_string,nk_edit_buffer,nk_edit_string_zero_terminated,nk_chart_begin,nk_chart_begin_colored,nk_chart_add_slot,nk_chart_add_slot_colored,nk_chart_push,nk_chart_push_slot,nk_chart_end,nk_plot,nk_plot_function,nk_popup_begin,nk_popup_close,nk_popup_end,nk_popup_get_scroll,nk_popup_set_scroll,nk_combo,nk_combo_separator,nk_combo_string,nk_combo_callback,nk_combobox,nk_combobox_string,nk_combobox_separator,nk_combobox_callback,nk_combo_begin_text,nk_combo_begin_label,nk_combo_begin_color,nk_combo_begin_symbol,nk_combo_begin_symbol_label,nk_combo_begin_symbol_text,nk_combo_begin_image,nk_combo_begin_image_label,nk_combo_begin_image_text,nk_combo_item_label,nk_combo_item_text,nk_combo_item_image_label,nk_combo_item_image_text,nk_combo_item_symbol_label,nk_combo_item_symbol_text,nk_combo_close,nk_combo_end,nk_contextual_begin,nk_contextual_item_text,nk_contextual_item_label,nk_contextual_item_image_label,nk_contextual_item_image_text,nk_contextual_item_symbol_label,nk_contextual_item_symbol_text,nk_contextual_close,nk_contextual_end,nk_tooltip,nk_tooltip_begin,nk_tooltip_end,nk_menubar_begin,nk_menubar_end,nk_menu_begin_text,nk_menu_begin_label,nk_menu_begin_image,nk_menu_begin_image_text,nk_menu_begin_image_label,nk_menu_begin_symbol,nk_menu_begin_symbol_text,nk_menu_begin_symbol_label,nk_menu_item_text,nk_menu_item_label,nk_menu_item_image_label,nk_menu_item_image_text,nk_menu_item_symbol_text,nk_menu_item_symbol_label,nk_menu_close,nk_menu_end,nk_convert,nk_input_begin,nk_input_motion,nk_input_key,nk_input_button,nk_input_scroll,nk_input_char,nk_input_glyph,nk_input_unicode,nk_input_end,nk_style_default,nk_style_from_table,nk_style_load_cursor,nk_style_load_all_cursors,nk_style_get_color_by_name,nk_style_set_font,nk_style_set_cursor,nk_style_show_cursor,nk_style_hide_cursor,nk_style_push_font,nk_style_push_float,nk_style_push_vec2,nk_style_push_style_item,nk_style_push_flags,nk_style_push_color,nk_style_pop_font,nk_style_pop_float,nk_style_pop_vec2,nk_style_pop_style_item,nk_style_pop_flags,nk_style_pop_color,nk_widget_bounds,nk_widget_position,nk_widget_size,nk_widget_width,nk_widget_height,nk_widget_is_hovered,nk_widget_is_mouse_clicked,nk_widget_has_mouse_click_down,nk_spacing,nk_widget,nk_widget_fitting,nk_rgb,nk_rgb_iv,nk_rgb_bv,nk_rgb_f,nk_rgb_fv,nk_rgb_cf,nk_rgb_hex,nk_rgba,nk_rgba_u32,nk_rgba_iv,nk_rgba_bv,nk_rgba_f,nk_rgba_fv,nk_rgba_cf,nk_rgba_hex,nk_hsva_colorf,nk_hsva_colorfv,nk_colorf_hsva_f,nk_colorf_hsva_fv,nk_hsv,nk_hsv_iv,nk_hsv_bv,nk_hsv_f,nk_hsv_fv,nk_hsva,nk_hsva_iv,nk_hsva_bv,nk_hsva_f,nk_hsva_fv,nk_color_f,nk_color_fv,nk_color_cf,nk_color_d,nk_color_dv,nk_color_u32,nk_color_hex_rgba,nk_color_hex_rgb,nk_color_hsv_i,nk_color_hsv_b,nk_color_hsv_iv,nk_color_hsv_bv,nk_color_hsv_f,nk_color_hsv_fv,nk_color_hsva_i,nk_color_hsva_b,nk_color_hsva_iv,nk_color_hsva_bv,nk_color_hsva_f,nk_color_hsva_fv,nk_handle_ptr,nk_handle_id,nk_image_handle,nk_image_ptr,nk_image_id,nk_image_is_subimage,nk_subimage_ptr,nk_subimage_id,nk_subimage_handle,nk_murmur_hash,nk_triangle_from_direction,nk_vec2,nk_vec2i,nk_vec2v,nk_vec2iv,nk_get_null_rect,nk_rect,nk_recti,nk_recta,nk_rectv,nk_rectiv,nk_rect_pos,nk_rect_size,nk_strlen,nk_stricmp,nk_stricmpn,nk_strtoi,nk_strtof,nk_strtod,nk_strfilter,nk_strmatch_fuzzy_string,nk_strmatch_fuzzy_text,nk_utf_decode,nk_utf_encode,nk_utf_len,nk_utf_at,nk_buffer_init,nk_buffer_init_fixed,nk_buffer_info,nk_buffer_push,nk_buffer_mark,nk_buffer_reset,nk_buffer_clear,nk_buffer_free,nk_buffer_memory,nk_buffer_memory_const,nk_buffer_total,nk_str_init,nk_str_init_fixed,nk_str_clear,nk_str_free,nk_str_append_text_char,nk_str_append_str_char,nk_str_append_text_utf8,nk_str_append_str_utf8,nk_str_append_text_runes,nk_str_append_str_runes,nk_str_insert_at_char,nk_str_insert_at_rune,nk_str_insert_text_char,nk_str_insert_str_char,nk_str_insert_text_utf8,nk_str_insert_str_utf8,nk_str_insert_text_runes,nk_str_insert_str_runes,nk_str_remove_chars,nk_str_remove_runes,nk_str_delete_chars,nk_str_delete_runes,nk_str_at_char,nk_str_at_rune,nk_str_rune_at,nk_str_at_char_const,nk_str_at_const,nk_str_get,nk_str_get_const,nk_str_len,nk_str_len_char,nk_filter_default,nk_filter_ascii,nk_filter_float,nk_filter_decimal,nk_filter_hex,nk_filter_oct,nk_filter_binary,nk_textedit_init,nk_textedit_init_fixed,nk_textedit_free,nk_textedit_text,nk_textedit_delete,nk_textedit_delete_selection,nk_textedit_select_all,nk_textedit_cut,nk_textedit_paste,nk_textedit_undo,nk_textedit_redo,nk_stroke_line,nk_stroke_curve,nk_stroke_rect,nk_stroke_circle,nk_stroke_arc,nk_stroke_triangle,nk_stroke_polyline,nk_stroke_polygon,nk_fill_rect,nk_fill_rect_multi_color,nk_fill_circle,nk_fill_arc,nk_fill_triangle,nk_fill_polygon,nk_draw_image,nk_draw_text,nk_push_scissor,nk_push_custom,nk__next,nk__begin,nk_input_has_mouse_click,nk_input_has_mouse_click_in_rect,nk_input_has_mouse_click_down_in_rect,nk_input_is_mouse_click_in_rect,nk_input_is_mouse_click_down_in_rect,nk_input_any_mouse_click_in_rect,nk_input_is_mouse_prev_hovering_rect,nk_input_is_mouse_hovering_rect,nk_input_mouse_clicked,nk_input_is_mouse_down,nk_input_is_mouse_pressed,nk_input_is_mouse_released,nk_input_is_key_pressed,nk_input_is_key_released,nk_input_is_key_down,nk_draw_list_init,nk_draw_list_setup,nk__draw_list_begin,nk__draw_list_next,nk__draw_begin,nk__draw_end,nk__draw_next,nk_draw_list_path_clear,nk_draw_list_path_line_to,nk_draw_list_path_arc_to_fast,nk_draw_list_path_arc_to,nk_draw_list_path_rect_to,nk_draw_list_path_curve_to,nk_draw_list_path_fill,nk_draw_list_path_stroke,nk_draw_list_stroke_line,nk_draw_list_stroke_rect,nk_draw_list_stroke_triangle,nk_draw_list_stroke_circle,nk_draw_list_stroke_curve,nk_draw_list_stroke_poly_line,nk_draw_list_fill_rect,nk_draw_list_fill_rect_multi_color,nk_draw_list_fill_triangle,nk_draw_list_fill_circle,nk_draw_list_fill_poly_convex,nk_draw_list_add_image,nk_draw_list_add_text,nk_draw_list_push_userdata,nk_style_item_image,nk_style_item_color,nk_style_item_hide");
+
     static { Library.loadSystem(System::load, System::loadLibrary, Nuklear.class, "org.lwjgl.nuklear", Platform.mapLibraryNameBundled("lwjgl_nuklear")); }
 
     protected Nuklear() {
@@ -1244,7 +1246,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_init_fixed(@NativeType("struct nk_context *") NkContext ctx, @NativeType("void *") ByteBuffer memory, @Nullable @NativeType("struct nk_user_font const *") NkUserFont font) {
-        return nnk_init_fixed(ctx.address(), memAddress(memory), memory.remaining(), memAddressSafe(font)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nnk_init_fixed(ctx.address(), memAddress(memory), memory.remaining(), memAddressSafe(font))) != 0;
     }
 
     // --- [ nk_init ] ---
@@ -1264,7 +1267,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_init(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_allocator *") NkAllocator allocator, @Nullable @NativeType("struct nk_user_font const *") NkUserFont font) {
-        return nnk_init(ctx.address(), allocator.address(), memAddressSafe(font)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nnk_init(ctx.address(), allocator.address(), memAddressSafe(font))) != 0;
     }
 
     // --- [ nk_init_custom ] ---
@@ -1282,7 +1286,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_init_custom(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_buffer *") NkBuffer cmds, @NativeType("struct nk_buffer *") NkBuffer pool, @Nullable @NativeType("struct nk_user_font const *") NkUserFont font) {
-        return nnk_init_custom(ctx.address(), cmds.address(), pool.address(), memAddressSafe(font)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nnk_init_custom(ctx.address(), cmds.address(), pool.address(), memAddressSafe(font))) != 0;
     }
 
     // --- [ nk_clear ] ---
@@ -1299,7 +1304,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_clear(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_clear(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ nk_free ] ---
@@ -1315,7 +1322,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_free(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_free(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ nk_set_user_data ] ---
@@ -1330,7 +1339,9 @@ public class Nuklear {
      * @param handle handle with either pointer or index to be passed into every draw commands
      */
     public static void nk_set_user_data(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_handle") NkHandle handle) {
+        long __start = FunctionProfiler.start();
         nnk_set_user_data(ctx.address(), handle.address());
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ nk_begin ] ---
@@ -1349,7 +1360,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_begin(ctx.address(), memAddress(title), bounds.address(), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nnk_begin(ctx.address(), memAddress(title), bounds.address(), flags)) != 0;
     }
 
     /**
@@ -1364,7 +1376,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_begin(ctx.address(), titleEncoded, bounds.address(), flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 6, __start, nnk_begin(ctx.address(), titleEncoded, bounds.address(), flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1387,7 +1400,8 @@ public class Nuklear {
             checkNT1(name);
             checkNT1(title);
         }
-        return nnk_begin_titled(ctx.address(), memAddress(name), memAddress(title), bounds.address(), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nnk_begin_titled(ctx.address(), memAddress(name), memAddress(title), bounds.address(), flags)) != 0;
     }
 
     /**
@@ -1404,7 +1418,8 @@ public class Nuklear {
             long nameEncoded = stack.getPointerAddress();
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_begin_titled(ctx.address(), nameEncoded, titleEncoded, bounds.address(), flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 7, __start, nnk_begin_titled(ctx.address(), nameEncoded, titleEncoded, bounds.address(), flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1421,7 +1436,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ nk_window_find ] ---
@@ -1440,7 +1457,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        long __result = nnk_window_find(ctx.address(), memAddress(name));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 9, __start, nnk_window_find(ctx.address(), memAddress(name)));
         return NkWindow.createSafe(__result);
     }
 
@@ -1456,7 +1474,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            long __result = nnk_window_find(ctx.address(), nameEncoded);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 9, __start, nnk_window_find(ctx.address(), nameEncoded));
             return NkWindow.createSafe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -1475,7 +1494,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_rect")
     public static NkRect nk_window_get_bounds(@NativeType("struct nk_context const *") NkContext ctx, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_bounds(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
         return __result;
     }
 
@@ -1491,7 +1512,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_window_get_position(@NativeType("struct nk_context const *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_position(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
         return __result;
     }
 
@@ -1507,7 +1530,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_window_get_size(@NativeType("struct nk_context const *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_size(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
         return __result;
     }
 
@@ -1522,7 +1547,8 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static float nk_window_get_width(@NativeType("struct nk_context const *") NkContext ctx) {
-        return nnk_window_get_width(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nnk_window_get_width(ctx.address()));
     }
 
     // --- [ nk_window_get_height ] ---
@@ -1536,7 +1562,8 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static float nk_window_get_height(@NativeType("struct nk_context const *") NkContext ctx) {
-        return nnk_window_get_height(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nnk_window_get_height(ctx.address()));
     }
 
     // --- [ nk_window_get_panel ] ---
@@ -1552,7 +1579,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_panel *")
     public static NkPanel nk_window_get_panel(@NativeType("struct nk_context *") NkContext ctx) {
-        long __result = nnk_window_get_panel(ctx.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 15, __start, nnk_window_get_panel(ctx.address()));
         return NkPanel.createSafe(__result);
     }
 
@@ -1568,7 +1596,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_rect")
     public static NkRect nk_window_get_content_region(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_content_region(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
         return __result;
     }
 
@@ -1584,7 +1614,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_window_get_content_region_min(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_content_region_min(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
         return __result;
     }
 
@@ -1600,7 +1632,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_window_get_content_region_max(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_content_region_max(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
         return __result;
     }
 
@@ -1616,7 +1650,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_window_get_content_region_size(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_window_get_content_region_size(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
         return __result;
     }
 
@@ -1633,7 +1669,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_command_buffer *")
     public static NkCommandBuffer nk_window_get_canvas(@NativeType("struct nk_context *") NkContext ctx) {
-        long __result = nnk_window_get_canvas(ctx.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 20, __start, nnk_window_get_canvas(ctx.address()));
         return NkCommandBuffer.createSafe(__result);
     }
 
@@ -1656,7 +1693,9 @@ public class Nuklear {
             checkSafe(offset_x, 1);
             checkSafe(offset_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_get_scroll(ctx.address(), memAddressSafe(offset_x), memAddressSafe(offset_y));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ nk_window_has_focus ] ---
@@ -1671,7 +1710,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_window_has_focus(@NativeType("struct nk_context const *") NkContext ctx) {
-        return nnk_window_has_focus(ctx.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nnk_window_has_focus(ctx.address())) != 0;
     }
 
     // --- [ nk_window_is_collapsed ] ---
@@ -1689,7 +1729,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_window_is_collapsed(ctx.address(), memAddress(name)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nnk_window_is_collapsed(ctx.address(), memAddress(name))) != 0;
     }
 
     /**
@@ -1703,7 +1744,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_window_is_collapsed(ctx.address(), nameEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 23, __start, nnk_window_is_collapsed(ctx.address(), nameEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1724,7 +1766,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_window_is_closed(ctx.address(), memAddress(name)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nnk_window_is_closed(ctx.address(), memAddress(name))) != 0;
     }
 
     /**
@@ -1738,7 +1781,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_window_is_closed(ctx.address(), nameEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 24, __start, nnk_window_is_closed(ctx.address(), nameEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1759,7 +1803,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_window_is_hidden(ctx.address(), memAddress(name)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nnk_window_is_hidden(ctx.address(), memAddress(name))) != 0;
     }
 
     /**
@@ -1773,7 +1818,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_window_is_hidden(ctx.address(), nameEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 25, __start, nnk_window_is_hidden(ctx.address(), nameEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1794,7 +1840,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_window_is_active(ctx.address(), memAddress(name)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nnk_window_is_active(ctx.address(), memAddress(name))) != 0;
     }
 
     /**
@@ -1808,7 +1855,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_window_is_active(ctx.address(), nameEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 26, __start, nnk_window_is_active(ctx.address(), nameEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1826,7 +1874,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_window_is_hovered(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_window_is_hovered(ctx.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nnk_window_is_hovered(ctx.address())) != 0;
     }
 
     // --- [ nk_window_is_any_hovered ] ---
@@ -1841,7 +1890,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_window_is_any_hovered(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_window_is_any_hovered(ctx.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nnk_window_is_any_hovered(ctx.address())) != 0;
     }
 
     // --- [ nk_item_is_any_active ] ---
@@ -1856,7 +1906,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_item_is_any_active(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_item_is_any_active(ctx.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nnk_item_is_any_active(ctx.address())) != 0;
     }
 
     // --- [ nk_window_set_bounds ] ---
@@ -1875,7 +1926,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_set_bounds(ctx.address(), memAddress(name), bounds.address());
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -1890,7 +1943,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_set_bounds(ctx.address(), nameEncoded, bounds.address());
+            FunctionProfiler.end(PROFILE_ID + 30, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1912,7 +1967,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_set_position(ctx.address(), memAddress(name), position.address());
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -1927,7 +1984,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_set_position(ctx.address(), nameEncoded, position.address());
+            FunctionProfiler.end(PROFILE_ID + 31, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1949,7 +2008,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_set_size(ctx.address(), memAddress(name), size.address());
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -1964,7 +2025,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_set_size(ctx.address(), nameEncoded, size.address());
+            FunctionProfiler.end(PROFILE_ID + 32, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1985,7 +2048,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_set_focus(ctx.address(), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -1999,7 +2064,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_set_focus(ctx.address(), nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 33, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2020,7 +2087,9 @@ public class Nuklear {
      * @param offset_y the y offset to scroll to
      */
     public static void nk_window_set_scroll(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_uint") int offset_x, @NativeType("nk_uint") int offset_y) {
+        long __start = FunctionProfiler.start();
         nnk_window_set_scroll(ctx.address(), offset_x, offset_y);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ nk_window_close ] ---
@@ -2037,7 +2106,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_close(ctx.address(), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -2050,7 +2121,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_close(ctx.address(), nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2071,7 +2144,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_collapse(ctx.address(), memAddress(name), c);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2085,7 +2160,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_collapse(ctx.address(), nameEncoded, c);
+            FunctionProfiler.end(PROFILE_ID + 36, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2106,7 +2183,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_collapse_if(ctx.address(), memAddress(name), c, cond ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -2120,7 +2199,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_collapse_if(ctx.address(), nameEncoded, c, cond ? 1 : 0);
+            FunctionProfiler.end(PROFILE_ID + 37, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2141,7 +2222,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_show(ctx.address(), memAddress(name), s);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2155,7 +2238,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_show(ctx.address(), nameEncoded, s);
+            FunctionProfiler.end(PROFILE_ID + 38, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2176,7 +2261,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_show_if(ctx.address(), memAddress(name), s, cond ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2190,7 +2277,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_window_show_if(ctx.address(), nameEncoded, s, cond ? 1 : 0);
+            FunctionProfiler.end(PROFILE_ID + 39, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2210,7 +2299,9 @@ public class Nuklear {
      * @param height new minimum row height to be used for auto generating the row height
      */
     public static void nk_layout_set_min_row_height(@NativeType("struct nk_context *") NkContext ctx, float height) {
+        long __start = FunctionProfiler.start();
         nnk_layout_set_min_row_height(ctx.address(), height);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ nk_layout_reset_min_row_height ] ---
@@ -2225,7 +2316,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_layout_reset_min_row_height(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_layout_reset_min_row_height(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ nk_layout_widget_bounds ] ---
@@ -2240,7 +2333,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_rect")
     public static NkRect nk_layout_widget_bounds(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_layout_widget_bounds(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
         return __result;
     }
 
@@ -2256,7 +2351,8 @@ public class Nuklear {
      * @param pixel_width pixel width to convert to window ratio
      */
     public static float nk_layout_ratio_from_pixel(@NativeType("struct nk_context *") NkContext ctx, float pixel_width) {
-        return nnk_layout_ratio_from_pixel(ctx.address(), pixel_width);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, nnk_layout_ratio_from_pixel(ctx.address(), pixel_width));
     }
 
     // --- [ nk_layout_row_dynamic ] ---
@@ -2273,7 +2369,9 @@ public class Nuklear {
      * @param cols   number of widgets inside row
      */
     public static void nk_layout_row_dynamic(@NativeType("struct nk_context *") NkContext ctx, float height, @NativeType("nk_int") int cols) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_dynamic(ctx.address(), height, cols);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ nk_layout_row_static ] ---
@@ -2291,7 +2389,9 @@ public class Nuklear {
      * @param cols       number of widgets inside row
      */
     public static void nk_layout_row_static(@NativeType("struct nk_context *") NkContext ctx, float height, @NativeType("nk_int") int item_width, @NativeType("nk_int") int cols) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_static(ctx.address(), height, item_width, cols);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ nk_layout_row_begin ] ---
@@ -2308,7 +2408,9 @@ public class Nuklear {
      * @param cols       number of widgets inside row
      */
     public static void nk_layout_row_begin(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_layout_format") int fmt, float row_height, @NativeType("nk_int") int cols) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_begin(ctx.address(), fmt, row_height, cols);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ nk_layout_row_push ] ---
@@ -2323,7 +2425,9 @@ public class Nuklear {
      * @param value either a window ratio or fixed width depending on {@code fmt} in previous {@link #nk_layout_row_begin layout_row_begin} call
      */
     public static void nk_layout_row_push(@NativeType("struct nk_context *") NkContext ctx, float value) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_push(ctx.address(), value);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ nk_layout_row_end ] ---
@@ -2337,7 +2441,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_layout_row_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ nk_layout_row ] ---
@@ -2357,7 +2463,9 @@ public class Nuklear {
      * @param height holds height of each widget in row or zero for auto layouting
      */
     public static void nk_layout_row(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_layout_format") int fmt, float height, @NativeType("float const *") FloatBuffer ratio) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row(ctx.address(), fmt, height, ratio.remaining(), memAddress(ratio));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ nk_layout_row_template_begin ] ---
@@ -2372,7 +2480,9 @@ public class Nuklear {
      * @param height holds height of each widget in row or zero for auto layouting
      */
     public static void nk_layout_row_template_begin(@NativeType("struct nk_context *") NkContext ctx, float height) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_template_begin(ctx.address(), height);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ nk_layout_row_template_push_dynamic ] ---
@@ -2386,7 +2496,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_layout_row_template_push_dynamic(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_template_push_dynamic(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ nk_layout_row_template_push_variable ] ---
@@ -2401,7 +2513,9 @@ public class Nuklear {
      * @param min_width holds the minimum pixel width the next column must be
      */
     public static void nk_layout_row_template_push_variable(@NativeType("struct nk_context *") NkContext ctx, float min_width) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_template_push_variable(ctx.address(), min_width);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     // --- [ nk_layout_row_template_push_static ] ---
@@ -2416,7 +2530,9 @@ public class Nuklear {
      * @param width holds the absolute pixel width value the next column must be
      */
     public static void nk_layout_row_template_push_static(@NativeType("struct nk_context *") NkContext ctx, float width) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_template_push_static(ctx.address(), width);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ nk_layout_row_template_end ] ---
@@ -2430,7 +2546,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_layout_row_template_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row_template_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ nk_layout_space_begin ] ---
@@ -2447,7 +2565,9 @@ public class Nuklear {
      * @param widget_count number of widgets inside row
      */
     public static void nk_layout_space_begin(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_layout_format") int fmt, float height, @NativeType("nk_int") int widget_count) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_begin(ctx.address(), fmt, height, widget_count);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ nk_layout_space_push ] ---
@@ -2462,7 +2582,9 @@ public class Nuklear {
      * @param rect position and size in layout space local coordinates
      */
     public static void nk_layout_space_push(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect rect) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_push(ctx.address(), rect.address());
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ nk_layout_space_end ] ---
@@ -2476,7 +2598,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_layout_space_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ nk_layout_space_bounds ] ---
@@ -2491,7 +2615,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_rect")
     public static NkRect nk_layout_space_bounds(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_bounds(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
         return __result;
     }
 
@@ -2508,7 +2634,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_layout_space_to_screen(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 ret) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_to_screen(ctx.address(), ret.address());
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
         return ret;
     }
 
@@ -2525,7 +2653,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_layout_space_to_local(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 ret) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_to_local(ctx.address(), ret.address());
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
         return ret;
     }
 
@@ -2542,7 +2672,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_rect")
     public static NkRect nk_layout_space_rect_to_screen(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect ret) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_rect_to_screen(ctx.address(), ret.address());
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
         return ret;
     }
 
@@ -2559,7 +2691,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_rect")
     public static NkRect nk_layout_space_rect_to_local(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect ret) {
+        long __start = FunctionProfiler.start();
         nnk_layout_space_rect_to_local(ctx.address(), ret.address());
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
         return ret;
     }
 
@@ -2574,7 +2708,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_group_begin(ctx.address(), memAddress(title), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, nnk_group_begin(ctx.address(), memAddress(title), flags)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -2584,7 +2719,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_group_begin(ctx.address(), titleEncoded, flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 63, __start, nnk_group_begin(ctx.address(), titleEncoded, flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2609,7 +2745,8 @@ public class Nuklear {
             checkNT1(name);
             checkNT1(title);
         }
-        return nnk_group_begin_titled(ctx.address(), memAddress(name), memAddress(title), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, nnk_group_begin_titled(ctx.address(), memAddress(name), memAddress(title), flags)) != 0;
     }
 
     /**
@@ -2628,7 +2765,8 @@ public class Nuklear {
             long nameEncoded = stack.getPointerAddress();
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_group_begin_titled(ctx.address(), nameEncoded, titleEncoded, flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 64, __start, nnk_group_begin_titled(ctx.address(), nameEncoded, titleEncoded, flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2641,7 +2779,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_group_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_group_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ nk_group_scrolled_offset_begin ] ---
@@ -2657,7 +2797,8 @@ public class Nuklear {
             check(y_offset, 1);
             checkNT1(title);
         }
-        return nnk_group_scrolled_offset_begin(ctx.address(), memAddress(x_offset), memAddress(y_offset), memAddress(title), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, nnk_group_scrolled_offset_begin(ctx.address(), memAddress(x_offset), memAddress(y_offset), memAddress(title), flags)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -2671,7 +2812,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_group_scrolled_offset_begin(ctx.address(), memAddress(x_offset), memAddress(y_offset), titleEncoded, flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 66, __start, nnk_group_scrolled_offset_begin(ctx.address(), memAddress(x_offset), memAddress(y_offset), titleEncoded, flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2688,7 +2830,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_group_scrolled_begin(ctx.address(), scroll.address(), memAddress(title), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, nnk_group_scrolled_begin(ctx.address(), scroll.address(), memAddress(title), flags)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -2698,7 +2841,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_group_scrolled_begin(ctx.address(), scroll.address(), titleEncoded, flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 67, __start, nnk_group_scrolled_begin(ctx.address(), scroll.address(), titleEncoded, flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2711,7 +2855,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_group_scrolled_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_group_scrolled_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     // --- [ nk_group_get_scroll ] ---
@@ -2733,7 +2879,9 @@ public class Nuklear {
             checkSafe(x_offset, 1);
             checkSafe(y_offset, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_group_get_scroll(ctx.address(), memAddress(id), memAddressSafe(x_offset), memAddressSafe(y_offset));
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     /**
@@ -2753,7 +2901,9 @@ public class Nuklear {
         try {
             stack.nUTF8(id, true);
             long idEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_group_get_scroll(ctx.address(), idEncoded, memAddressSafe(x_offset), memAddressSafe(y_offset));
+            FunctionProfiler.end(PROFILE_ID + 69, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2776,7 +2926,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(id);
         }
+        long __start = FunctionProfiler.start();
         nnk_group_set_scroll(ctx.address(), memAddress(id), x_offset, y_offset);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     /**
@@ -2792,7 +2944,9 @@ public class Nuklear {
         try {
             stack.nUTF8(id, true);
             long idEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_group_set_scroll(ctx.address(), idEncoded, x_offset, y_offset);
+            FunctionProfiler.end(PROFILE_ID + 70, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2809,7 +2963,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_list_view_begin(ctx.address(), view.address(), memAddress(title), flags, row_height, row_count) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, nnk_list_view_begin(ctx.address(), view.address(), memAddress(title), flags, row_height, row_count)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -2819,7 +2974,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_list_view_begin(ctx.address(), view.address(), titleEncoded, flags, row_height, row_count) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 71, __start, nnk_list_view_begin(ctx.address(), view.address(), titleEncoded, flags, row_height, row_count)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2830,7 +2986,9 @@ public class Nuklear {
     public static native void nnk_list_view_end(long view);
 
     public static void nk_list_view_end(@NativeType("struct nk_list_view *") NkListView view) {
+        long __start = FunctionProfiler.start();
         nnk_list_view_end(view.address());
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     // --- [ nk_tree_push_hashed ] ---
@@ -2857,7 +3015,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_tree_push_hashed(ctx.address(), type, memAddress(title), initial_state, memAddress(hash), hash.remaining(), seed) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, nnk_tree_push_hashed(ctx.address(), type, memAddress(title), initial_state, memAddress(hash), hash.remaining(), seed)) != 0;
     }
 
     /**
@@ -2876,7 +3035,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_push_hashed(ctx.address(), type, titleEncoded, initial_state, memAddress(hash), hash.remaining(), seed) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 73, __start, nnk_tree_push_hashed(ctx.address(), type, titleEncoded, initial_state, memAddress(hash), hash.remaining(), seed)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2907,7 +3067,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_tree_image_push_hashed(ctx.address(), type, img.address(), memAddress(title), initial_state, memAddress(hash), hash.remaining(), seed) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, nnk_tree_image_push_hashed(ctx.address(), type, img.address(), memAddress(title), initial_state, memAddress(hash), hash.remaining(), seed)) != 0;
     }
 
     /**
@@ -2927,7 +3088,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_image_push_hashed(ctx.address(), type, img.address(), titleEncoded, initial_state, memAddress(hash), hash.remaining(), seed) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 74, __start, nnk_tree_image_push_hashed(ctx.address(), type, img.address(), titleEncoded, initial_state, memAddress(hash), hash.remaining(), seed)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2944,7 +3106,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_tree_pop(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_tree_pop(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     // --- [ nk_tree_state_push ] ---
@@ -2966,7 +3130,8 @@ public class Nuklear {
             checkNT1(title);
             check(state, 1);
         }
-        return nnk_tree_state_push(ctx.address(), type, memAddress(title), memAddress(state)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, nnk_tree_state_push(ctx.address(), type, memAddress(title), memAddress(state))) != 0;
     }
 
     /**
@@ -2986,7 +3151,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_state_push(ctx.address(), type, titleEncoded, memAddress(state)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 76, __start, nnk_tree_state_push(ctx.address(), type, titleEncoded, memAddress(state))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3011,7 +3177,8 @@ public class Nuklear {
             checkNT1(title);
             check(state, 1);
         }
-        return nnk_tree_state_image_push(ctx.address(), type, image.address(), memAddress(title), memAddress(state)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, nnk_tree_state_image_push(ctx.address(), type, image.address(), memAddress(title), memAddress(state))) != 0;
     }
 
     /**
@@ -3031,7 +3198,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_state_image_push(ctx.address(), type, image.address(), titleEncoded, memAddress(state)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 77, __start, nnk_tree_state_image_push(ctx.address(), type, image.address(), titleEncoded, memAddress(state))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3048,7 +3216,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_tree_state_pop(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_tree_state_pop(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     // --- [ nk_tree_element_push_hashed ] ---
@@ -3067,7 +3237,8 @@ public class Nuklear {
             checkNT1(title);
             check(selected, 1);
         }
-        return nnk_tree_element_push_hashed(ctx.address(), type, memAddress(title), initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, nnk_tree_element_push_hashed(ctx.address(), type, memAddress(title), initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed)) != 0;
     }
 
     /**
@@ -3084,7 +3255,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_element_push_hashed(ctx.address(), type, titleEncoded, initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 79, __start, nnk_tree_element_push_hashed(ctx.address(), type, titleEncoded, initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3106,7 +3278,8 @@ public class Nuklear {
             checkNT1(title);
             check(selected, 1);
         }
-        return nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), memAddress(title), initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), memAddress(title), initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed)) != 0;
     }
 
     /**
@@ -3123,7 +3296,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), titleEncoded, initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 80, __start, nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), titleEncoded, initial_state, memAddress(selected), memAddress(hash), hash.remaining(), seed)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3136,7 +3310,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_tree_element_pop(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_tree_element_pop(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     // --- [ nk_text ] ---
@@ -3149,7 +3325,9 @@ public class Nuklear {
      * @param alignment one of:<br><table><tr><td>{@link #NK_TEXT_LEFT TEXT_LEFT}</td><td>{@link #NK_TEXT_CENTERED TEXT_CENTERED}</td><td>{@link #NK_TEXT_RIGHT TEXT_RIGHT}</td></tr></table>
      */
     public static void nk_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("nk_flags") int alignment) {
+        long __start = FunctionProfiler.start();
         nnk_text(ctx.address(), memAddress(str), str.remaining(), alignment);
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
     }
 
     /**
@@ -3161,7 +3339,9 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_text(ctx.address(), strEncoded, strEncodedLength, alignment);
+            FunctionProfiler.end(PROFILE_ID + 82, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3177,7 +3357,9 @@ public class Nuklear {
      * @param alignment one of:<br><table><tr><td>{@link #NK_TEXT_LEFT TEXT_LEFT}</td><td>{@link #NK_TEXT_CENTERED TEXT_CENTERED}</td><td>{@link #NK_TEXT_RIGHT TEXT_RIGHT}</td></tr></table>
      */
     public static void nk_text_colored(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("nk_flags") int alignment, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_text_colored(ctx.address(), memAddress(str), str.remaining(), alignment, color.address());
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     /**
@@ -3189,7 +3371,9 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_text_colored(ctx.address(), strEncoded, strEncodedLength, alignment, color.address());
+            FunctionProfiler.end(PROFILE_ID + 83, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3202,7 +3386,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_text_wrap(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str) {
+        long __start = FunctionProfiler.start();
         nnk_text_wrap(ctx.address(), memAddress(str), str.remaining());
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -3211,7 +3397,9 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_text_wrap(ctx.address(), strEncoded, strEncodedLength);
+            FunctionProfiler.end(PROFILE_ID + 84, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3224,7 +3412,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_text_wrap_colored(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_text_wrap_colored(ctx.address(), memAddress(str), str.remaining(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -3233,7 +3423,9 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_text_wrap_colored(ctx.address(), strEncoded, strEncodedLength, color.address());
+            FunctionProfiler.end(PROFILE_ID + 85, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3252,7 +3444,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
+        long __start = FunctionProfiler.start();
         nnk_label(ctx.address(), memAddress(str), align);
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     /**
@@ -3264,7 +3458,9 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_label(ctx.address(), strEncoded, align);
+            FunctionProfiler.end(PROFILE_ID + 86, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3283,7 +3479,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
+        long __start = FunctionProfiler.start();
         nnk_label_colored(ctx.address(), memAddress(str), align, color.address());
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     /**
@@ -3295,7 +3493,9 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_label_colored(ctx.address(), strEncoded, align, color.address());
+            FunctionProfiler.end(PROFILE_ID + 87, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3311,7 +3511,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
+        long __start = FunctionProfiler.start();
         nnk_label_wrap(ctx.address(), memAddress(str));
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -3320,7 +3522,9 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_label_wrap(ctx.address(), strEncoded);
+            FunctionProfiler.end(PROFILE_ID + 88, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3336,7 +3540,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
+        long __start = FunctionProfiler.start();
         nnk_label_colored_wrap(ctx.address(), memAddress(str), color.address());
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -3345,7 +3551,9 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_label_colored_wrap(ctx.address(), strEncoded, color.address());
+            FunctionProfiler.end(PROFILE_ID + 89, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3358,7 +3566,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_image(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img) {
+        long __start = FunctionProfiler.start();
         nnk_image(ctx.address(), img.address());
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     // --- [ nk_image_color ] ---
@@ -3368,7 +3578,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_image_color(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_image_color(ctx.address(), img.address(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     // --- [ nk_button_set_behavior ] ---
@@ -3381,7 +3593,9 @@ public class Nuklear {
      * @param behavior one of:<br><table><tr><td>{@link #NK_BUTTON_DEFAULT BUTTON_DEFAULT}</td><td>{@link #NK_BUTTON_REPEATER BUTTON_REPEATER}</td></tr></table>
      */
     public static void nk_button_set_behavior(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_button_behavior") int behavior) {
+        long __start = FunctionProfiler.start();
         nnk_button_set_behavior(ctx.address(), behavior);
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     // --- [ nk_button_push_behavior ] ---
@@ -3395,7 +3609,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_button_push_behavior(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_button_behavior") int behavior) {
-        return nnk_button_push_behavior(ctx.address(), behavior) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 93, __start, nnk_button_push_behavior(ctx.address(), behavior)) != 0;
     }
 
     // --- [ nk_button_pop_behavior ] ---
@@ -3406,7 +3621,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_button_pop_behavior(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_button_pop_behavior(ctx.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 94, __start, nnk_button_pop_behavior(ctx.address())) != 0;
     }
 
     // --- [ nk_button_text ] ---
@@ -3417,7 +3633,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_button_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer title) {
-        return nnk_button_text(ctx.address(), memAddress(title), title.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 95, __start, nnk_button_text(ctx.address(), memAddress(title), title.remaining())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3427,7 +3644,8 @@ public class Nuklear {
         try {
             int titleEncodedLength = stack.nUTF8(title, false);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_text(ctx.address(), titleEncoded, titleEncodedLength) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 95, __start, nnk_button_text(ctx.address(), titleEncoded, titleEncodedLength)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3444,7 +3662,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_label(ctx.address(), memAddress(title)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 96, __start, nnk_button_label(ctx.address(), memAddress(title))) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3454,7 +3673,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_label(ctx.address(), titleEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 96, __start, nnk_button_label(ctx.address(), titleEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3468,7 +3688,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_button_color(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_color") NkColor color) {
-        return nnk_button_color(ctx.address(), color.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 97, __start, nnk_button_color(ctx.address(), color.address())) != 0;
     }
 
     // --- [ nk_button_symbol ] ---
@@ -3482,7 +3703,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_button_symbol(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol) {
-        return nnk_button_symbol(ctx.address(), symbol) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 98, __start, nnk_button_symbol(ctx.address(), symbol)) != 0;
     }
 
     // --- [ nk_button_image ] ---
@@ -3493,7 +3715,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_button_image(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img) {
-        return nnk_button_image(ctx.address(), img.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 99, __start, nnk_button_image(ctx.address(), img.address())) != 0;
     }
 
     // --- [ nk_button_symbol_label ] ---
@@ -3511,7 +3734,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_button_symbol_label(ctx.address(), symbol, memAddress(text), text_alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 100, __start, nnk_button_symbol_label(ctx.address(), symbol, memAddress(text), text_alignment)) != 0;
     }
 
     /**
@@ -3525,7 +3749,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_button_symbol_label(ctx.address(), symbol, textEncoded, text_alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 100, __start, nnk_button_symbol_label(ctx.address(), symbol, textEncoded, text_alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3543,7 +3768,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_button_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_button_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 101, __start, nnk_button_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -3557,7 +3783,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_button_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 101, __start, nnk_button_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3577,7 +3804,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_button_image_label(ctx.address(), img.address(), memAddress(text), text_alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 102, __start, nnk_button_image_label(ctx.address(), img.address(), memAddress(text), text_alignment)) != 0;
     }
 
     /**
@@ -3590,7 +3818,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_button_image_label(ctx.address(), img.address(), textEncoded, text_alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 102, __start, nnk_button_image_label(ctx.address(), img.address(), textEncoded, text_alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3607,7 +3836,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_button_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_button_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 103, __start, nnk_button_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -3620,7 +3850,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_button_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 103, __start, nnk_button_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3637,7 +3868,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_text_styled(ctx.address(), style.address(), memAddress(title), len) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, nnk_button_text_styled(ctx.address(), style.address(), memAddress(title), len)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3647,7 +3879,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_text_styled(ctx.address(), style.address(), titleEncoded, len) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 104, __start, nnk_button_text_styled(ctx.address(), style.address(), titleEncoded, len)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3664,7 +3897,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_label_styled(ctx.address(), style.address(), memAddress(title)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 105, __start, nnk_button_label_styled(ctx.address(), style.address(), memAddress(title))) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3674,7 +3908,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_label_styled(ctx.address(), style.address(), titleEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 105, __start, nnk_button_label_styled(ctx.address(), style.address(), titleEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3688,7 +3923,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_button_symbol_styled(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_style_button const *") NkStyleButton style, @NativeType("enum nk_symbol_type") int symbol) {
-        return nnk_button_symbol_styled(ctx.address(), style.address(), symbol) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 106, __start, nnk_button_symbol_styled(ctx.address(), style.address(), symbol)) != 0;
     }
 
     // --- [ nk_button_image_styled ] ---
@@ -3699,7 +3935,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_button_image_styled(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_style_button const *") NkStyleButton style, @NativeType("struct nk_image") NkImage img) {
-        return nnk_button_image_styled(ctx.address(), style.address(), img.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 107, __start, nnk_button_image_styled(ctx.address(), style.address(), img.address())) != 0;
     }
 
     // --- [ nk_button_symbol_text_styled ] ---
@@ -3713,7 +3950,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_symbol_text_styled(ctx.address(), style.address(), symbol, memAddress(title), len, alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 108, __start, nnk_button_symbol_text_styled(ctx.address(), style.address(), symbol, memAddress(title), len, alignment)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3723,7 +3961,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_symbol_text_styled(ctx.address(), style.address(), symbol, titleEncoded, len, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 108, __start, nnk_button_symbol_text_styled(ctx.address(), style.address(), symbol, titleEncoded, len, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3740,7 +3979,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_symbol_label_styled(ctx.address(), style.address(), symbol, memAddress(title), text_alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 109, __start, nnk_button_symbol_label_styled(ctx.address(), style.address(), symbol, memAddress(title), text_alignment)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3750,7 +3990,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_symbol_label_styled(ctx.address(), style.address(), symbol, titleEncoded, text_alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 109, __start, nnk_button_symbol_label_styled(ctx.address(), style.address(), symbol, titleEncoded, text_alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3767,7 +4008,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_image_label_styled(ctx.address(), style.address(), img.address(), memAddress(title), text_alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 110, __start, nnk_button_image_label_styled(ctx.address(), style.address(), img.address(), memAddress(title), text_alignment)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3777,7 +4019,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_image_label_styled(ctx.address(), style.address(), img.address(), titleEncoded, text_alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 110, __start, nnk_button_image_label_styled(ctx.address(), style.address(), img.address(), titleEncoded, text_alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3794,7 +4037,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_button_image_text_styled(ctx.address(), style.address(), img.address(), memAddress(title), len, alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 111, __start, nnk_button_image_text_styled(ctx.address(), style.address(), img.address(), memAddress(title), len, alignment)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3804,7 +4048,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_button_image_text_styled(ctx.address(), style.address(), img.address(), titleEncoded, len, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 111, __start, nnk_button_image_text_styled(ctx.address(), style.address(), img.address(), titleEncoded, len, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3821,7 +4066,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_check_label(ctx.address(), memAddress(str), active ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, nnk_check_label(ctx.address(), memAddress(str), active ? 1 : 0)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3831,7 +4077,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_check_label(ctx.address(), strEncoded, active ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 112, __start, nnk_check_label(ctx.address(), strEncoded, active ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3845,7 +4092,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_check_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("int") boolean active) {
-        return nnk_check_text(ctx.address(), memAddress(str), str.remaining(), active ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 113, __start, nnk_check_text(ctx.address(), memAddress(str), str.remaining(), active ? 1 : 0)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3855,7 +4103,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_check_text(ctx.address(), strEncoded, strEncodedLength, active ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 113, __start, nnk_check_text(ctx.address(), strEncoded, strEncodedLength, active ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3872,7 +4121,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_check_flags_label(ctx.address(), memAddress(str), flags, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 114, __start, nnk_check_flags_label(ctx.address(), memAddress(str), flags, value));
     }
 
     /** @param ctx the nuklear context */
@@ -3882,7 +4132,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_check_flags_label(ctx.address(), strEncoded, flags, value);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 114, __start, nnk_check_flags_label(ctx.address(), strEncoded, flags, value));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3896,7 +4147,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("unsigned int")
     public static int nk_check_flags_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("unsigned int") int flags, @NativeType("unsigned int") int value) {
-        return nnk_check_flags_text(ctx.address(), memAddress(str), str.remaining(), flags, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 115, __start, nnk_check_flags_text(ctx.address(), memAddress(str), str.remaining(), flags, value));
     }
 
     /** @param ctx the nuklear context */
@@ -3906,7 +4158,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_check_flags_text(ctx.address(), strEncoded, strEncodedLength, flags, value);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 115, __start, nnk_check_flags_text(ctx.address(), strEncoded, strEncodedLength, flags, value));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3924,7 +4177,8 @@ public class Nuklear {
             checkNT1(str);
             check(active, 1);
         }
-        return nnk_checkbox_label(ctx.address(), memAddress(str), memAddress(active)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 116, __start, nnk_checkbox_label(ctx.address(), memAddress(str), memAddress(active))) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3937,7 +4191,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_label(ctx.address(), strEncoded, memAddress(active)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 116, __start, nnk_checkbox_label(ctx.address(), strEncoded, memAddress(active))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3954,7 +4209,8 @@ public class Nuklear {
         if (CHECKS) {
             check(active, 1);
         }
-        return nnk_checkbox_text(ctx.address(), memAddress(str), str.remaining(), memAddress(active)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 117, __start, nnk_checkbox_text(ctx.address(), memAddress(str), str.remaining(), memAddress(active))) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3967,7 +4223,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_text(ctx.address(), strEncoded, strEncodedLength, memAddress(active)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 117, __start, nnk_checkbox_text(ctx.address(), strEncoded, strEncodedLength, memAddress(active))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3985,7 +4242,8 @@ public class Nuklear {
             checkNT1(str);
             check(flags, 1);
         }
-        return nnk_checkbox_flags_label(ctx.address(), memAddress(str), memAddress(flags), value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 118, __start, nnk_checkbox_flags_label(ctx.address(), memAddress(str), memAddress(flags), value)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -3998,7 +4256,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_flags_label(ctx.address(), strEncoded, memAddress(flags), value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 118, __start, nnk_checkbox_flags_label(ctx.address(), strEncoded, memAddress(flags), value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4015,7 +4274,8 @@ public class Nuklear {
         if (CHECKS) {
             check(flags, 1);
         }
-        return nnk_checkbox_flags_text(ctx.address(), memAddress(str), str.remaining(), memAddress(flags), value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 119, __start, nnk_checkbox_flags_text(ctx.address(), memAddress(str), str.remaining(), memAddress(flags), value)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -4028,7 +4288,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_flags_text(ctx.address(), strEncoded, strEncodedLength, memAddress(flags), value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 119, __start, nnk_checkbox_flags_text(ctx.address(), strEncoded, strEncodedLength, memAddress(flags), value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4046,7 +4307,8 @@ public class Nuklear {
             checkNT1(str);
             check(active, 1);
         }
-        return nnk_radio_label(ctx.address(), memAddress(str), memAddress(active)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 120, __start, nnk_radio_label(ctx.address(), memAddress(str), memAddress(active))) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -4059,7 +4321,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_radio_label(ctx.address(), strEncoded, memAddress(active)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 120, __start, nnk_radio_label(ctx.address(), strEncoded, memAddress(active))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4076,7 +4339,8 @@ public class Nuklear {
         if (CHECKS) {
             check(active, 1);
         }
-        return nnk_radio_text(ctx.address(), memAddress(str), str.remaining(), memAddress(active)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 121, __start, nnk_radio_text(ctx.address(), memAddress(str), str.remaining(), memAddress(active))) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -4089,7 +4353,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_radio_text(ctx.address(), strEncoded, strEncodedLength, memAddress(active)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 121, __start, nnk_radio_text(ctx.address(), strEncoded, strEncodedLength, memAddress(active))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4106,7 +4371,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_option_label(ctx.address(), memAddress(str), active ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 122, __start, nnk_option_label(ctx.address(), memAddress(str), active ? 1 : 0)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -4116,7 +4382,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_option_label(ctx.address(), strEncoded, active ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 122, __start, nnk_option_label(ctx.address(), strEncoded, active ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4130,7 +4397,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_option_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("int") boolean active) {
-        return nnk_option_text(ctx.address(), memAddress(str), str.remaining(), active ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 123, __start, nnk_option_text(ctx.address(), memAddress(str), str.remaining(), active ? 1 : 0)) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -4140,7 +4408,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_option_text(ctx.address(), strEncoded, strEncodedLength, active ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 123, __start, nnk_option_text(ctx.address(), strEncoded, strEncodedLength, active ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4161,7 +4430,8 @@ public class Nuklear {
             checkNT1(str);
             check(value, 1);
         }
-        return nnk_selectable_label(ctx.address(), memAddress(str), align, memAddress(value)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 124, __start, nnk_selectable_label(ctx.address(), memAddress(str), align, memAddress(value))) != 0;
     }
 
     /**
@@ -4177,7 +4447,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_label(ctx.address(), strEncoded, align, memAddress(value)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 124, __start, nnk_selectable_label(ctx.address(), strEncoded, align, memAddress(value))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4197,7 +4468,8 @@ public class Nuklear {
         if (CHECKS) {
             check(value, 1);
         }
-        return nnk_selectable_text(ctx.address(), memAddress(str), str.remaining(), align, memAddress(value)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 125, __start, nnk_selectable_text(ctx.address(), memAddress(str), str.remaining(), align, memAddress(value))) != 0;
     }
 
     /**
@@ -4213,7 +4485,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_text(ctx.address(), strEncoded, strEncodedLength, align, memAddress(value)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 125, __start, nnk_selectable_text(ctx.address(), strEncoded, strEncodedLength, align, memAddress(value))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4234,7 +4507,8 @@ public class Nuklear {
             checkNT1(str);
             check(value, 1);
         }
-        return nnk_selectable_image_label(ctx.address(), img.address(), memAddress(str), align, memAddress(value)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 126, __start, nnk_selectable_image_label(ctx.address(), img.address(), memAddress(str), align, memAddress(value))) != 0;
     }
 
     /**
@@ -4250,7 +4524,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_image_label(ctx.address(), img.address(), strEncoded, align, memAddress(value)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 126, __start, nnk_selectable_image_label(ctx.address(), img.address(), strEncoded, align, memAddress(value))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4270,7 +4545,8 @@ public class Nuklear {
         if (CHECKS) {
             check(value, 1);
         }
-        return nnk_selectable_image_text(ctx.address(), img.address(), memAddress(str), str.remaining(), align, memAddress(value)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 127, __start, nnk_selectable_image_text(ctx.address(), img.address(), memAddress(str), str.remaining(), align, memAddress(value))) != 0;
     }
 
     /**
@@ -4286,7 +4562,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_image_text(ctx.address(), img.address(), strEncoded, strEncodedLength, align, memAddress(value)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 127, __start, nnk_selectable_image_text(ctx.address(), img.address(), strEncoded, strEncodedLength, align, memAddress(value))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4308,7 +4585,8 @@ public class Nuklear {
             checkNT1(str);
             check(value, 1);
         }
-        return nnk_selectable_symbol_label(ctx.address(), symbol, memAddress(str), align, memAddress(value)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 128, __start, nnk_selectable_symbol_label(ctx.address(), symbol, memAddress(str), align, memAddress(value))) != 0;
     }
 
     /**
@@ -4325,7 +4603,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_symbol_label(ctx.address(), symbol, strEncoded, align, memAddress(value)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 128, __start, nnk_selectable_symbol_label(ctx.address(), symbol, strEncoded, align, memAddress(value))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4346,7 +4625,8 @@ public class Nuklear {
         if (CHECKS) {
             check(value, 1);
         }
-        return nnk_selectable_symbol_text(ctx.address(), symbol, memAddress(str), str.remaining(), align, memAddress(value)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 129, __start, nnk_selectable_symbol_text(ctx.address(), symbol, memAddress(str), str.remaining(), align, memAddress(value))) != 0;
     }
 
     /**
@@ -4363,7 +4643,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_symbol_text(ctx.address(), symbol, strEncoded, strEncodedLength, align, memAddress(value)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 129, __start, nnk_selectable_symbol_text(ctx.address(), symbol, strEncoded, strEncodedLength, align, memAddress(value))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4383,7 +4664,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_select_label(ctx.address(), memAddress(str), align, value ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 130, __start, nnk_select_label(ctx.address(), memAddress(str), align, value ? 1 : 0)) != 0;
     }
 
     /**
@@ -4396,7 +4678,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_select_label(ctx.address(), strEncoded, align, value ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 130, __start, nnk_select_label(ctx.address(), strEncoded, align, value ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4413,7 +4696,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_select_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer str, @NativeType("nk_flags") int align, @NativeType("int") boolean value) {
-        return nnk_select_text(ctx.address(), memAddress(str), str.remaining(), align, value ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 131, __start, nnk_select_text(ctx.address(), memAddress(str), str.remaining(), align, value ? 1 : 0)) != 0;
     }
 
     /**
@@ -4426,7 +4710,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_select_text(ctx.address(), strEncoded, strEncodedLength, align, value ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 131, __start, nnk_select_text(ctx.address(), strEncoded, strEncodedLength, align, value ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4446,7 +4731,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_select_image_label(ctx.address(), img.address(), memAddress(str), align, value ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 132, __start, nnk_select_image_label(ctx.address(), img.address(), memAddress(str), align, value ? 1 : 0)) != 0;
     }
 
     /**
@@ -4459,7 +4745,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_select_image_label(ctx.address(), img.address(), strEncoded, align, value ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 132, __start, nnk_select_image_label(ctx.address(), img.address(), strEncoded, align, value ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4476,7 +4763,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_select_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("char const *") ByteBuffer str, @NativeType("nk_flags") int align, @NativeType("int") boolean value) {
-        return nnk_select_image_text(ctx.address(), img.address(), memAddress(str), str.remaining(), align, value ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 133, __start, nnk_select_image_text(ctx.address(), img.address(), memAddress(str), str.remaining(), align, value ? 1 : 0)) != 0;
     }
 
     /**
@@ -4489,7 +4777,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_select_image_text(ctx.address(), img.address(), strEncoded, strEncodedLength, align, value ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 133, __start, nnk_select_image_text(ctx.address(), img.address(), strEncoded, strEncodedLength, align, value ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4510,7 +4799,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_select_symbol_label(ctx.address(), symbol, memAddress(str), align, value ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 134, __start, nnk_select_symbol_label(ctx.address(), symbol, memAddress(str), align, value ? 1 : 0)) != 0;
     }
 
     /**
@@ -4524,7 +4814,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_select_symbol_label(ctx.address(), symbol, strEncoded, align, value ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 134, __start, nnk_select_symbol_label(ctx.address(), symbol, strEncoded, align, value ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4542,7 +4833,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_select_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol, @NativeType("char const *") ByteBuffer str, @NativeType("nk_flags") int align, @NativeType("int") boolean value) {
-        return nnk_select_symbol_text(ctx.address(), symbol, memAddress(str), str.remaining(), align, value ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 135, __start, nnk_select_symbol_text(ctx.address(), symbol, memAddress(str), str.remaining(), align, value ? 1 : 0)) != 0;
     }
 
     /**
@@ -4556,7 +4848,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_select_symbol_text(ctx.address(), symbol, strEncoded, strEncodedLength, align, value ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 135, __start, nnk_select_symbol_text(ctx.address(), symbol, strEncoded, strEncodedLength, align, value ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4569,7 +4862,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static float nk_slide_float(@NativeType("struct nk_context *") NkContext ctx, float min, float val, float max, float step) {
-        return nnk_slide_float(ctx.address(), min, val, max, step);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 136, __start, nnk_slide_float(ctx.address(), min, val, max, step));
     }
 
     // --- [ nk_slide_int ] ---
@@ -4579,7 +4873,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_slide_int(@NativeType("struct nk_context *") NkContext ctx, int min, int val, int max, int step) {
-        return nnk_slide_int(ctx.address(), min, val, max, step);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 137, __start, nnk_slide_int(ctx.address(), min, val, max, step));
     }
 
     // --- [ nk_slider_float ] ---
@@ -4592,7 +4887,8 @@ public class Nuklear {
         if (CHECKS) {
             check(val, 1);
         }
-        return nnk_slider_float(ctx.address(), min, memAddress(val), max, step);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 138, __start, nnk_slider_float(ctx.address(), min, memAddress(val), max, step));
     }
 
     // --- [ nk_slider_int ] ---
@@ -4605,7 +4901,8 @@ public class Nuklear {
         if (CHECKS) {
             check(val, 1);
         }
-        return nnk_slider_int(ctx.address(), min, memAddress(val), max, step);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 139, __start, nnk_slider_int(ctx.address(), min, memAddress(val), max, step));
     }
 
     // --- [ nk_progress ] ---
@@ -4619,7 +4916,8 @@ public class Nuklear {
         if (CHECKS) {
             check(cur, 1);
         }
-        return nnk_progress(ctx.address(), memAddress(cur), max, modifyable ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 140, __start, nnk_progress(ctx.address(), memAddress(cur), max, modifyable ? 1 : 0)) != 0;
     }
 
     // --- [ nk_prog ] ---
@@ -4630,7 +4928,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("nk_size")
     public static long nk_prog(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_size") long cur, @NativeType("nk_size") long max, @NativeType("int") boolean modifyable) {
-        return nnk_prog(ctx.address(), cur, max, modifyable ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 141, __start, nnk_prog(ctx.address(), cur, max, modifyable ? 1 : 0));
     }
 
     // --- [ nk_color_picker ] ---
@@ -4644,7 +4943,9 @@ public class Nuklear {
      */
     @NativeType("struct nk_colorf")
     public static NkColorf nk_color_picker(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_colorf") NkColorf color, @NativeType("enum nk_color_format") int fmt) {
+        long __start = FunctionProfiler.start();
         nnk_color_picker(ctx.address(), color.address(), fmt);
+        FunctionProfiler.end(PROFILE_ID + 142, __start);
         return color;
     }
 
@@ -4659,7 +4960,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_color_pick(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_colorf *") NkColorf color, @NativeType("enum nk_color_format") int fmt) {
-        return nnk_color_pick(ctx.address(), color.address(), fmt) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 143, __start, nnk_color_pick(ctx.address(), color.address(), fmt)) != 0;
     }
 
     // --- [ nk_property_int ] ---
@@ -4673,7 +4975,9 @@ public class Nuklear {
             checkNT1(name);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_property_int(ctx.address(), memAddress(name), min, memAddress(val), max, step, inc_per_pixel);
+        FunctionProfiler.end(PROFILE_ID + 144, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -4685,7 +4989,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_property_int(ctx.address(), nameEncoded, min, memAddress(val), max, step, inc_per_pixel);
+            FunctionProfiler.end(PROFILE_ID + 144, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4702,7 +5008,9 @@ public class Nuklear {
             checkNT1(name);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_property_float(ctx.address(), memAddress(name), min, memAddress(val), max, step, inc_per_pixel);
+        FunctionProfiler.end(PROFILE_ID + 145, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -4714,7 +5022,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_property_float(ctx.address(), nameEncoded, min, memAddress(val), max, step, inc_per_pixel);
+            FunctionProfiler.end(PROFILE_ID + 145, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4731,7 +5041,9 @@ public class Nuklear {
             checkNT1(name);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_property_double(ctx.address(), memAddress(name), min, memAddress(val), max, step, inc_per_pixel);
+        FunctionProfiler.end(PROFILE_ID + 146, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -4743,7 +5055,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_property_double(ctx.address(), nameEncoded, min, memAddress(val), max, step, inc_per_pixel);
+            FunctionProfiler.end(PROFILE_ID + 146, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4759,7 +5073,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_propertyi(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 147, __start, nnk_propertyi(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel));
     }
 
     /** @param ctx the nuklear context */
@@ -4768,7 +5083,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_propertyi(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 147, __start, nnk_propertyi(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4784,7 +5100,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_propertyf(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 148, __start, nnk_propertyf(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel));
     }
 
     /** @param ctx the nuklear context */
@@ -4793,7 +5110,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_propertyf(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 148, __start, nnk_propertyf(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4809,7 +5127,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nnk_propertyd(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 149, __start, nnk_propertyd(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel));
     }
 
     /** @param ctx the nuklear context */
@@ -4818,7 +5137,8 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nnk_propertyd(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 149, __start, nnk_propertyd(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4834,7 +5154,9 @@ public class Nuklear {
      * @param flags one of:<br><table><tr><td>{@link #NK_EDIT_DEFAULT EDIT_DEFAULT}</td><td>{@link #NK_EDIT_READ_ONLY EDIT_READ_ONLY}</td><td>{@link #NK_EDIT_AUTO_SELECT EDIT_AUTO_SELECT}</td><td>{@link #NK_EDIT_SIG_ENTER EDIT_SIG_ENTER}</td></tr><tr><td>{@link #NK_EDIT_ALLOW_TAB EDIT_ALLOW_TAB}</td><td>{@link #NK_EDIT_NO_CURSOR EDIT_NO_CURSOR}</td><td>{@link #NK_EDIT_SELECTABLE EDIT_SELECTABLE}</td><td>{@link #NK_EDIT_CLIPBOARD EDIT_CLIPBOARD}</td></tr><tr><td>{@link #NK_EDIT_CTRL_ENTER_NEWLINE EDIT_CTRL_ENTER_NEWLINE}</td><td>{@link #NK_EDIT_NO_HORIZONTAL_SCROLL EDIT_NO_HORIZONTAL_SCROLL}</td><td>{@link #NK_EDIT_ALWAYS_INSERT_MODE EDIT_ALWAYS_INSERT_MODE}</td><td>{@link #NK_EDIT_MULTILINE EDIT_MULTILINE}</td></tr><tr><td>{@link #NK_EDIT_GOTO_END_ON_ACTIVATE EDIT_GOTO_END_ON_ACTIVATE}</td></tr></table>
      */
     public static void nk_edit_focus(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_flags") int flags) {
+        long __start = FunctionProfiler.start();
         nnk_edit_focus(ctx.address(), flags);
+        FunctionProfiler.end(PROFILE_ID + 150, __start);
     }
 
     // --- [ nk_edit_unfocus ] ---
@@ -4844,7 +5166,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_edit_unfocus(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_edit_unfocus(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 151, __start);
     }
 
     // --- [ nk_edit_string ] ---
@@ -4862,7 +5186,8 @@ public class Nuklear {
             checkNT1(memory);
             check(len, 1);
         }
-        return nnk_edit_string(ctx.address(), flags, memAddress(memory), memAddress(len), max, memAddressSafe(filter));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 152, __start, nnk_edit_string(ctx.address(), flags, memAddress(memory), memAddress(len), max, memAddressSafe(filter)));
     }
 
     /**
@@ -4878,7 +5203,8 @@ public class Nuklear {
         try {
             stack.nUTF8(memory, true);
             long memoryEncoded = stack.getPointerAddress();
-            return nnk_edit_string(ctx.address(), flags, memoryEncoded, memAddress(len), max, memAddressSafe(filter));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 152, __start, nnk_edit_string(ctx.address(), flags, memoryEncoded, memAddress(len), max, memAddressSafe(filter)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4895,7 +5221,8 @@ public class Nuklear {
      */
     @NativeType("nk_flags")
     public static int nk_edit_buffer(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_flags") int flags, @NativeType("struct nk_text_edit *") NkTextEdit edit, @Nullable @NativeType("nk_plugin_filter") NkPluginFilterI filter) {
-        return nnk_edit_buffer(ctx.address(), flags, edit.address(), memAddressSafe(filter));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 153, __start, nnk_edit_buffer(ctx.address(), flags, edit.address(), memAddressSafe(filter)));
     }
 
     // --- [ nk_edit_string_zero_terminated ] ---
@@ -4912,7 +5239,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(buffer);
         }
-        return nnk_edit_string_zero_terminated(ctx.address(), flags, memAddress(buffer), max, memAddressSafe(filter));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 154, __start, nnk_edit_string_zero_terminated(ctx.address(), flags, memAddress(buffer), max, memAddressSafe(filter)));
     }
 
     /**
@@ -4925,7 +5253,8 @@ public class Nuklear {
         try {
             stack.nUTF8(buffer, true);
             long bufferEncoded = stack.getPointerAddress();
-            return nnk_edit_string_zero_terminated(ctx.address(), flags, bufferEncoded, max, memAddressSafe(filter));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 154, __start, nnk_edit_string_zero_terminated(ctx.address(), flags, bufferEncoded, max, memAddressSafe(filter)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -4942,7 +5271,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_chart_begin(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_chart_type") int type, int num, float min, float max) {
-        return nnk_chart_begin(ctx.address(), type, num, min, max) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 155, __start, nnk_chart_begin(ctx.address(), type, num, min, max)) != 0;
     }
 
     // --- [ nk_chart_begin_colored ] ---
@@ -4956,7 +5286,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_chart_begin_colored(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_chart_type") int type, @NativeType("struct nk_color") NkColor color, @NativeType("struct nk_color") NkColor active, int num, float min, float max) {
-        return nnk_chart_begin_colored(ctx.address(), type, color.address(), active.address(), num, min, max) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 156, __start, nnk_chart_begin_colored(ctx.address(), type, color.address(), active.address(), num, min, max)) != 0;
     }
 
     // --- [ nk_chart_add_slot ] ---
@@ -4969,7 +5300,9 @@ public class Nuklear {
      * @param type one of:<br><table><tr><td>{@link #NK_CHART_LINES CHART_LINES}</td><td>{@link #NK_CHART_COLUMN CHART_COLUMN}</td><td>{@link #NK_CHART_MAX CHART_MAX}</td></tr></table>
      */
     public static void nk_chart_add_slot(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_chart_type") int type, int count, float min_value, float max_value) {
+        long __start = FunctionProfiler.start();
         nnk_chart_add_slot(ctx.address(), type, count, min_value, max_value);
+        FunctionProfiler.end(PROFILE_ID + 157, __start);
     }
 
     // --- [ nk_chart_add_slot_colored ] ---
@@ -4982,7 +5315,9 @@ public class Nuklear {
      * @param type one of:<br><table><tr><td>{@link #NK_CHART_LINES CHART_LINES}</td><td>{@link #NK_CHART_COLUMN CHART_COLUMN}</td><td>{@link #NK_CHART_MAX CHART_MAX}</td></tr></table>
      */
     public static void nk_chart_add_slot_colored(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_chart_type") int type, @NativeType("struct nk_color") NkColor color, @NativeType("struct nk_color") NkColor active, int count, float min_value, float max_value) {
+        long __start = FunctionProfiler.start();
         nnk_chart_add_slot_colored(ctx.address(), type, color.address(), active.address(), count, min_value, max_value);
+        FunctionProfiler.end(PROFILE_ID + 158, __start);
     }
 
     // --- [ nk_chart_push ] ---
@@ -4993,7 +5328,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("nk_flags")
     public static int nk_chart_push(@NativeType("struct nk_context *") NkContext ctx, float value) {
-        return nnk_chart_push(ctx.address(), value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 159, __start, nnk_chart_push(ctx.address(), value));
     }
 
     // --- [ nk_chart_push_slot ] ---
@@ -5004,7 +5340,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("nk_flags")
     public static int nk_chart_push_slot(@NativeType("struct nk_context *") NkContext ctx, float value, int slot) {
-        return nnk_chart_push_slot(ctx.address(), value, slot);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 160, __start, nnk_chart_push_slot(ctx.address(), value, slot));
     }
 
     // --- [ nk_chart_end ] ---
@@ -5014,7 +5351,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_chart_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_chart_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 161, __start);
     }
 
     // --- [ nk_plot ] ---
@@ -5030,7 +5369,9 @@ public class Nuklear {
         if (CHECKS) {
             check(values, offset + count);
         }
+        long __start = FunctionProfiler.start();
         nnk_plot(ctx.address(), type, memAddress(values), count, offset);
+        FunctionProfiler.end(PROFILE_ID + 162, __start);
     }
 
     // --- [ nk_plot_function ] ---
@@ -5046,7 +5387,9 @@ public class Nuklear {
         if (CHECKS) {
             check(userdata);
         }
+        long __start = FunctionProfiler.start();
         nnk_plot_function(ctx.address(), type, userdata, value_getter.address(), count, offset);
+        FunctionProfiler.end(PROFILE_ID + 163, __start);
     }
 
     // --- [ nk_popup_begin ] ---
@@ -5064,7 +5407,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(title);
         }
-        return nnk_popup_begin(ctx.address(), type, memAddress(title), flags, rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 164, __start, nnk_popup_begin(ctx.address(), type, memAddress(title), flags, rect.address())) != 0;
     }
 
     /**
@@ -5078,7 +5422,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_popup_begin(ctx.address(), type, titleEncoded, flags, rect.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 164, __start, nnk_popup_begin(ctx.address(), type, titleEncoded, flags, rect.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5091,7 +5436,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_popup_close(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_popup_close(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 165, __start);
     }
 
     // --- [ nk_popup_end ] ---
@@ -5101,7 +5448,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_popup_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_popup_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 166, __start);
     }
 
     // --- [ nk_popup_get_scroll ] ---
@@ -5115,7 +5464,9 @@ public class Nuklear {
             checkSafe(offset_x, 1);
             checkSafe(offset_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_popup_get_scroll(ctx.address(), memAddressSafe(offset_x), memAddressSafe(offset_y));
+        FunctionProfiler.end(PROFILE_ID + 167, __start);
     }
 
     // --- [ nk_popup_set_scroll ] ---
@@ -5125,7 +5476,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_popup_set_scroll(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_uint") int offset_x, @NativeType("nk_uint") int offset_y) {
+        long __start = FunctionProfiler.start();
         nnk_popup_set_scroll(ctx.address(), offset_x, offset_y);
+        FunctionProfiler.end(PROFILE_ID + 168, __start);
     }
 
     // --- [ nk_combo ] ---
@@ -5136,7 +5489,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_combo(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const **") PointerBuffer items, @NativeType("int") boolean selected, int item_height, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo(ctx.address(), memAddress(items), items.remaining(), selected ? 1 : 0, item_height, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 169, __start, nnk_combo(ctx.address(), memAddress(items), items.remaining(), selected ? 1 : 0, item_height, size.address())) != 0;
     }
 
     // --- [ nk_combo_separator ] ---
@@ -5150,7 +5504,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(items_separated_by_separator);
         }
-        return nnk_combo_separator(ctx.address(), memAddress(items_separated_by_separator), separator, selected ? 1 : 0, count, item_height, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 170, __start, nnk_combo_separator(ctx.address(), memAddress(items_separated_by_separator), separator, selected ? 1 : 0, count, item_height, size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -5160,7 +5515,8 @@ public class Nuklear {
         try {
             stack.nUTF8(items_separated_by_separator, true);
             long items_separated_by_separatorEncoded = stack.getPointerAddress();
-            return nnk_combo_separator(ctx.address(), items_separated_by_separatorEncoded, separator, selected ? 1 : 0, count, item_height, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 170, __start, nnk_combo_separator(ctx.address(), items_separated_by_separatorEncoded, separator, selected ? 1 : 0, count, item_height, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5177,7 +5533,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(items_separated_by_zeros);
         }
-        return nnk_combo_string(ctx.address(), memAddress(items_separated_by_zeros), selected ? 1 : 0, count, item_height, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 171, __start, nnk_combo_string(ctx.address(), memAddress(items_separated_by_zeros), selected ? 1 : 0, count, item_height, size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -5187,7 +5544,8 @@ public class Nuklear {
         try {
             stack.nUTF8(items_separated_by_zeros, true);
             long items_separated_by_zerosEncoded = stack.getPointerAddress();
-            return nnk_combo_string(ctx.address(), items_separated_by_zerosEncoded, selected ? 1 : 0, count, item_height, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 171, __start, nnk_combo_string(ctx.address(), items_separated_by_zerosEncoded, selected ? 1 : 0, count, item_height, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5204,7 +5562,8 @@ public class Nuklear {
         if (CHECKS) {
             check(userdata);
         }
-        return nnk_combo_callback(ctx.address(), item_getter.address(), userdata, selected ? 1 : 0, count, item_height, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 172, __start, nnk_combo_callback(ctx.address(), item_getter.address(), userdata, selected ? 1 : 0, count, item_height, size.address())) != 0;
     }
 
     // --- [ nk_combobox ] ---
@@ -5217,7 +5576,9 @@ public class Nuklear {
         if (CHECKS) {
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox(ctx.address(), memAddress(items), items.remaining(), memAddress(selected), item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 173, __start);
     }
 
     // --- [ nk_combobox_string ] ---
@@ -5231,7 +5592,9 @@ public class Nuklear {
             checkNT1(items_separated_by_zeros);
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox_string(ctx.address(), memAddress(items_separated_by_zeros), memAddress(selected), count, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 174, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -5243,7 +5606,9 @@ public class Nuklear {
         try {
             stack.nUTF8(items_separated_by_zeros, true);
             long items_separated_by_zerosEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_combobox_string(ctx.address(), items_separated_by_zerosEncoded, memAddress(selected), count, item_height, size.address());
+            FunctionProfiler.end(PROFILE_ID + 174, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5260,7 +5625,9 @@ public class Nuklear {
             checkNT1(items_separated_by_separator);
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox_separator(ctx.address(), memAddress(items_separated_by_separator), separator, memAddress(selected), count, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 175, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -5272,7 +5639,9 @@ public class Nuklear {
         try {
             stack.nUTF8(items_separated_by_separator, true);
             long items_separated_by_separatorEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_combobox_separator(ctx.address(), items_separated_by_separatorEncoded, separator, memAddress(selected), count, item_height, size.address());
+            FunctionProfiler.end(PROFILE_ID + 175, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5289,7 +5658,9 @@ public class Nuklear {
             check(userdata);
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox_callback(ctx.address(), item_getter.address(), userdata, memAddress(selected), count, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 176, __start);
     }
 
     // --- [ nk_combo_begin_text ] ---
@@ -5300,7 +5671,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_combo_begin_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer selected, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo_begin_text(ctx.address(), memAddress(selected), selected.remaining(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 177, __start, nnk_combo_begin_text(ctx.address(), memAddress(selected), selected.remaining(), size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -5310,7 +5682,8 @@ public class Nuklear {
         try {
             int selectedEncodedLength = stack.nUTF8(selected, false);
             long selectedEncoded = stack.getPointerAddress();
-            return nnk_combo_begin_text(ctx.address(), selectedEncoded, selectedEncodedLength, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 177, __start, nnk_combo_begin_text(ctx.address(), selectedEncoded, selectedEncodedLength, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5327,7 +5700,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(selected);
         }
-        return nnk_combo_begin_label(ctx.address(), memAddress(selected), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 178, __start, nnk_combo_begin_label(ctx.address(), memAddress(selected), size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -5337,7 +5711,8 @@ public class Nuklear {
         try {
             stack.nUTF8(selected, true);
             long selectedEncoded = stack.getPointerAddress();
-            return nnk_combo_begin_label(ctx.address(), selectedEncoded, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 178, __start, nnk_combo_begin_label(ctx.address(), selectedEncoded, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5351,7 +5726,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_combo_begin_color(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_color") NkColor color, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo_begin_color(ctx.address(), color.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 179, __start, nnk_combo_begin_color(ctx.address(), color.address(), size.address())) != 0;
     }
 
     // --- [ nk_combo_begin_symbol ] ---
@@ -5365,7 +5741,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_combo_begin_symbol(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo_begin_symbol(ctx.address(), symbol, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 180, __start, nnk_combo_begin_symbol(ctx.address(), symbol, size.address())) != 0;
     }
 
     // --- [ nk_combo_begin_symbol_label ] ---
@@ -5382,7 +5759,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(selected);
         }
-        return nnk_combo_begin_symbol_label(ctx.address(), memAddress(selected), symbol, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 181, __start, nnk_combo_begin_symbol_label(ctx.address(), memAddress(selected), symbol, size.address())) != 0;
     }
 
     /**
@@ -5395,7 +5773,8 @@ public class Nuklear {
         try {
             stack.nUTF8(selected, true);
             long selectedEncoded = stack.getPointerAddress();
-            return nnk_combo_begin_symbol_label(ctx.address(), selectedEncoded, symbol, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 181, __start, nnk_combo_begin_symbol_label(ctx.address(), selectedEncoded, symbol, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5412,7 +5791,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_combo_begin_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer selected, @NativeType("enum nk_symbol_type") int symbol, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo_begin_symbol_text(ctx.address(), memAddress(selected), selected.remaining(), symbol, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 182, __start, nnk_combo_begin_symbol_text(ctx.address(), memAddress(selected), selected.remaining(), symbol, size.address())) != 0;
     }
 
     /**
@@ -5425,7 +5805,8 @@ public class Nuklear {
         try {
             int selectedEncodedLength = stack.nUTF8(selected, false);
             long selectedEncoded = stack.getPointerAddress();
-            return nnk_combo_begin_symbol_text(ctx.address(), selectedEncoded, selectedEncodedLength, symbol, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 182, __start, nnk_combo_begin_symbol_text(ctx.address(), selectedEncoded, selectedEncodedLength, symbol, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5439,7 +5820,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_combo_begin_image(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo_begin_image(ctx.address(), img.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 183, __start, nnk_combo_begin_image(ctx.address(), img.address(), size.address())) != 0;
     }
 
     // --- [ nk_combo_begin_image_label ] ---
@@ -5453,7 +5835,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(selected);
         }
-        return nnk_combo_begin_image_label(ctx.address(), memAddress(selected), img.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 184, __start, nnk_combo_begin_image_label(ctx.address(), memAddress(selected), img.address(), size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -5463,7 +5846,8 @@ public class Nuklear {
         try {
             stack.nUTF8(selected, true);
             long selectedEncoded = stack.getPointerAddress();
-            return nnk_combo_begin_image_label(ctx.address(), selectedEncoded, img.address(), size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 184, __start, nnk_combo_begin_image_label(ctx.address(), selectedEncoded, img.address(), size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5477,7 +5861,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_combo_begin_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer selected, @NativeType("struct nk_image") NkImage img, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_combo_begin_image_text(ctx.address(), memAddress(selected), selected.remaining(), img.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 185, __start, nnk_combo_begin_image_text(ctx.address(), memAddress(selected), selected.remaining(), img.address(), size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -5487,7 +5872,8 @@ public class Nuklear {
         try {
             int selectedEncodedLength = stack.nUTF8(selected, false);
             long selectedEncoded = stack.getPointerAddress();
-            return nnk_combo_begin_image_text(ctx.address(), selectedEncoded, selectedEncodedLength, img.address(), size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 185, __start, nnk_combo_begin_image_text(ctx.address(), selectedEncoded, selectedEncodedLength, img.address(), size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5507,7 +5893,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_combo_item_label(ctx.address(), memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 186, __start, nnk_combo_item_label(ctx.address(), memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -5520,7 +5907,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_combo_item_label(ctx.address(), textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 186, __start, nnk_combo_item_label(ctx.address(), textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5537,7 +5925,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_combo_item_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_combo_item_text(ctx.address(), memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 187, __start, nnk_combo_item_text(ctx.address(), memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -5550,7 +5939,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_combo_item_text(ctx.address(), textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 187, __start, nnk_combo_item_text(ctx.address(), textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5570,7 +5960,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_combo_item_image_label(ctx.address(), img.address(), memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 188, __start, nnk_combo_item_image_label(ctx.address(), img.address(), memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -5583,7 +5974,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_combo_item_image_label(ctx.address(), img.address(), textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 188, __start, nnk_combo_item_image_label(ctx.address(), img.address(), textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5600,7 +5992,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_combo_item_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_combo_item_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 189, __start, nnk_combo_item_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -5613,7 +6006,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_combo_item_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 189, __start, nnk_combo_item_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5634,7 +6028,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_combo_item_symbol_label(ctx.address(), symbol, memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 190, __start, nnk_combo_item_symbol_label(ctx.address(), symbol, memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -5648,7 +6043,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_combo_item_symbol_label(ctx.address(), symbol, textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 190, __start, nnk_combo_item_symbol_label(ctx.address(), symbol, textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5666,7 +6062,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_combo_item_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_combo_item_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 191, __start, nnk_combo_item_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -5680,7 +6077,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_combo_item_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 191, __start, nnk_combo_item_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5693,7 +6091,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_combo_close(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_combo_close(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 192, __start);
     }
 
     // --- [ nk_combo_end ] ---
@@ -5703,7 +6103,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_combo_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_combo_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 193, __start);
     }
 
     // --- [ nk_contextual_begin ] ---
@@ -5717,7 +6119,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_contextual_begin(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_flags") int flags, @NativeType("struct nk_vec2") NkVec2 size, @NativeType("struct nk_rect") NkRect trigger_bounds) {
-        return nnk_contextual_begin(ctx.address(), flags, size.address(), trigger_bounds.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 194, __start, nnk_contextual_begin(ctx.address(), flags, size.address(), trigger_bounds.address())) != 0;
     }
 
     // --- [ nk_contextual_item_text ] ---
@@ -5731,7 +6134,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_contextual_item_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int align) {
-        return nnk_contextual_item_text(ctx.address(), memAddress(text), text.remaining(), align) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 195, __start, nnk_contextual_item_text(ctx.address(), memAddress(text), text.remaining(), align)) != 0;
     }
 
     /**
@@ -5744,7 +6148,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_contextual_item_text(ctx.address(), textEncoded, textEncodedLength, align) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 195, __start, nnk_contextual_item_text(ctx.address(), textEncoded, textEncodedLength, align)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5764,7 +6169,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_contextual_item_label(ctx.address(), memAddress(text), align) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 196, __start, nnk_contextual_item_label(ctx.address(), memAddress(text), align)) != 0;
     }
 
     /**
@@ -5777,7 +6183,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_contextual_item_label(ctx.address(), textEncoded, align) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 196, __start, nnk_contextual_item_label(ctx.address(), textEncoded, align)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5797,7 +6204,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_contextual_item_image_label(ctx.address(), img.address(), memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 197, __start, nnk_contextual_item_image_label(ctx.address(), img.address(), memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -5810,7 +6218,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_contextual_item_image_label(ctx.address(), img.address(), textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 197, __start, nnk_contextual_item_image_label(ctx.address(), img.address(), textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5827,7 +6236,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_contextual_item_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_contextual_item_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 198, __start, nnk_contextual_item_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -5840,7 +6250,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_contextual_item_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 198, __start, nnk_contextual_item_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5861,7 +6272,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_contextual_item_symbol_label(ctx.address(), symbol, memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 199, __start, nnk_contextual_item_symbol_label(ctx.address(), symbol, memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -5875,7 +6287,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_contextual_item_symbol_label(ctx.address(), symbol, textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 199, __start, nnk_contextual_item_symbol_label(ctx.address(), symbol, textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5893,7 +6306,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_contextual_item_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_contextual_item_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 200, __start, nnk_contextual_item_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -5907,7 +6321,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_contextual_item_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 200, __start, nnk_contextual_item_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5920,7 +6335,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_contextual_close(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_contextual_close(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 201, __start);
     }
 
     // --- [ nk_contextual_end ] ---
@@ -5930,7 +6347,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_contextual_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_contextual_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 202, __start);
     }
 
     // --- [ nk_tooltip ] ---
@@ -5943,7 +6362,9 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
+        long __start = FunctionProfiler.start();
         nnk_tooltip(ctx.address(), memAddress(text));
+        FunctionProfiler.end(PROFILE_ID + 203, __start);
     }
 
     /** @param ctx the nuklear context */
@@ -5952,7 +6373,9 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_tooltip(ctx.address(), textEncoded);
+            FunctionProfiler.end(PROFILE_ID + 203, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -5966,7 +6389,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_tooltip_begin(@NativeType("struct nk_context *") NkContext ctx, float width) {
-        return nnk_tooltip_begin(ctx.address(), width) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 204, __start, nnk_tooltip_begin(ctx.address(), width)) != 0;
     }
 
     // --- [ nk_tooltip_end ] ---
@@ -5976,7 +6400,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_tooltip_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_tooltip_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 205, __start);
     }
 
     // --- [ nk_menubar_begin ] ---
@@ -5986,7 +6412,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_menubar_begin(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_menubar_begin(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 206, __start);
     }
 
     // --- [ nk_menubar_end ] ---
@@ -5996,7 +6424,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_menubar_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_menubar_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 207, __start);
     }
 
     // --- [ nk_menu_begin_text ] ---
@@ -6010,7 +6440,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_menu_begin_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int align, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_menu_begin_text(ctx.address(), memAddress(text), text.remaining(), align, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 208, __start, nnk_menu_begin_text(ctx.address(), memAddress(text), text.remaining(), align, size.address())) != 0;
     }
 
     /**
@@ -6023,7 +6454,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_text(ctx.address(), textEncoded, textEncodedLength, align, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 208, __start, nnk_menu_begin_text(ctx.address(), textEncoded, textEncodedLength, align, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6043,7 +6475,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_begin_label(ctx.address(), memAddress(text), align, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 209, __start, nnk_menu_begin_label(ctx.address(), memAddress(text), align, size.address())) != 0;
     }
 
     /**
@@ -6056,7 +6489,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_label(ctx.address(), textEncoded, align, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 209, __start, nnk_menu_begin_label(ctx.address(), textEncoded, align, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6073,7 +6507,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_begin_image(ctx.address(), memAddress(text), img.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 210, __start, nnk_menu_begin_image(ctx.address(), memAddress(text), img.address(), size.address())) != 0;
     }
 
     /** @param ctx the nuklear context */
@@ -6083,7 +6518,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_image(ctx.address(), textEncoded, img.address(), size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 210, __start, nnk_menu_begin_image(ctx.address(), textEncoded, img.address(), size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6100,7 +6536,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_menu_begin_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int align, @NativeType("struct nk_image") NkImage img, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_menu_begin_image_text(ctx.address(), memAddress(text), text.remaining(), align, img.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 211, __start, nnk_menu_begin_image_text(ctx.address(), memAddress(text), text.remaining(), align, img.address(), size.address())) != 0;
     }
 
     /**
@@ -6113,7 +6550,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_image_text(ctx.address(), textEncoded, textEncodedLength, align, img.address(), size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 211, __start, nnk_menu_begin_image_text(ctx.address(), textEncoded, textEncodedLength, align, img.address(), size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6133,7 +6571,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_begin_image_label(ctx.address(), memAddress(text), align, img.address(), size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 212, __start, nnk_menu_begin_image_label(ctx.address(), memAddress(text), align, img.address(), size.address())) != 0;
     }
 
     /**
@@ -6146,7 +6585,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_image_label(ctx.address(), textEncoded, align, img.address(), size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 212, __start, nnk_menu_begin_image_label(ctx.address(), textEncoded, align, img.address(), size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6166,7 +6606,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_begin_symbol(ctx.address(), memAddress(text), symbol, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 213, __start, nnk_menu_begin_symbol(ctx.address(), memAddress(text), symbol, size.address())) != 0;
     }
 
     /**
@@ -6179,7 +6620,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_symbol(ctx.address(), textEncoded, symbol, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 213, __start, nnk_menu_begin_symbol(ctx.address(), textEncoded, symbol, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6197,7 +6639,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_menu_begin_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int align, @NativeType("enum nk_symbol_type") int symbol, @NativeType("struct nk_vec2") NkVec2 size) {
-        return nnk_menu_begin_symbol_text(ctx.address(), memAddress(text), text.remaining(), align, symbol, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 214, __start, nnk_menu_begin_symbol_text(ctx.address(), memAddress(text), text.remaining(), align, symbol, size.address())) != 0;
     }
 
     /**
@@ -6211,7 +6654,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_symbol_text(ctx.address(), textEncoded, textEncodedLength, align, symbol, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 214, __start, nnk_menu_begin_symbol_text(ctx.address(), textEncoded, textEncodedLength, align, symbol, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6232,7 +6676,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_begin_symbol_label(ctx.address(), memAddress(text), align, symbol, size.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 215, __start, nnk_menu_begin_symbol_label(ctx.address(), memAddress(text), align, symbol, size.address())) != 0;
     }
 
     /**
@@ -6246,7 +6691,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_begin_symbol_label(ctx.address(), textEncoded, align, symbol, size.address()) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 215, __start, nnk_menu_begin_symbol_label(ctx.address(), textEncoded, align, symbol, size.address())) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6263,7 +6709,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_menu_item_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int align) {
-        return nnk_menu_item_text(ctx.address(), memAddress(text), text.remaining(), align) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 216, __start, nnk_menu_item_text(ctx.address(), memAddress(text), text.remaining(), align)) != 0;
     }
 
     /**
@@ -6276,7 +6723,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_item_text(ctx.address(), textEncoded, textEncodedLength, align) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 216, __start, nnk_menu_item_text(ctx.address(), textEncoded, textEncodedLength, align)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6296,7 +6744,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_item_label(ctx.address(), memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 217, __start, nnk_menu_item_label(ctx.address(), memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -6309,7 +6758,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_item_label(ctx.address(), textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 217, __start, nnk_menu_item_label(ctx.address(), textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6329,7 +6779,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_item_image_label(ctx.address(), img.address(), memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 218, __start, nnk_menu_item_image_label(ctx.address(), img.address(), memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -6342,7 +6793,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_item_image_label(ctx.address(), img.address(), textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 218, __start, nnk_menu_item_image_label(ctx.address(), img.address(), textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6359,7 +6811,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_menu_item_image_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_image") NkImage img, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_menu_item_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 219, __start, nnk_menu_item_image_text(ctx.address(), img.address(), memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -6372,7 +6825,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_item_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 219, __start, nnk_menu_item_image_text(ctx.address(), img.address(), textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6390,7 +6844,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_menu_item_symbol_text(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_symbol_type") int symbol, @NativeType("char const *") ByteBuffer text, @NativeType("nk_flags") int alignment) {
-        return nnk_menu_item_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 220, __start, nnk_menu_item_symbol_text(ctx.address(), symbol, memAddress(text), text.remaining(), alignment)) != 0;
     }
 
     /**
@@ -6404,7 +6859,8 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_item_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 220, __start, nnk_menu_item_symbol_text(ctx.address(), symbol, textEncoded, textEncodedLength, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6425,7 +6881,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nnk_menu_item_symbol_label(ctx.address(), symbol, memAddress(text), alignment) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 221, __start, nnk_menu_item_symbol_label(ctx.address(), symbol, memAddress(text), alignment)) != 0;
     }
 
     /**
@@ -6439,7 +6896,8 @@ public class Nuklear {
         try {
             stack.nUTF8(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nnk_menu_item_symbol_label(ctx.address(), symbol, textEncoded, alignment) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 221, __start, nnk_menu_item_symbol_label(ctx.address(), symbol, textEncoded, alignment)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -6452,7 +6910,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_menu_close(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_menu_close(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 222, __start);
     }
 
     // --- [ nk_menu_end ] ---
@@ -6462,7 +6922,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_menu_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_menu_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 223, __start);
     }
 
     // --- [ nk_convert ] ---
@@ -6480,7 +6942,8 @@ public class Nuklear {
         if (CHECKS) {
             NkConvertConfig.validate(config.address());
         }
-        return nnk_convert(ctx.address(), cmds.address(), vertices.address(), elements.address(), config.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 224, __start, nnk_convert(ctx.address(), cmds.address(), vertices.address(), elements.address(), config.address()));
     }
 
     // --- [ nk_input_begin ] ---
@@ -6494,7 +6957,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_input_begin(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_input_begin(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 225, __start);
     }
 
     // --- [ nk_input_motion ] ---
@@ -6508,7 +6973,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_input_motion(@NativeType("struct nk_context *") NkContext ctx, int x, int y) {
+        long __start = FunctionProfiler.start();
         nnk_input_motion(ctx.address(), x, y);
+        FunctionProfiler.end(PROFILE_ID + 226, __start);
     }
 
     // --- [ nk_input_key ] ---
@@ -6523,7 +6990,9 @@ public class Nuklear {
      * @param key one of:<br><table><tr><td>{@link #NK_KEY_NONE KEY_NONE}</td><td>{@link #NK_KEY_SHIFT KEY_SHIFT}</td><td>{@link #NK_KEY_CTRL KEY_CTRL}</td><td>{@link #NK_KEY_DEL KEY_DEL}</td><td>{@link #NK_KEY_ENTER KEY_ENTER}</td><td>{@link #NK_KEY_TAB KEY_TAB}</td></tr><tr><td>{@link #NK_KEY_BACKSPACE KEY_BACKSPACE}</td><td>{@link #NK_KEY_COPY KEY_COPY}</td><td>{@link #NK_KEY_CUT KEY_CUT}</td><td>{@link #NK_KEY_PASTE KEY_PASTE}</td><td>{@link #NK_KEY_UP KEY_UP}</td><td>{@link #NK_KEY_DOWN KEY_DOWN}</td></tr><tr><td>{@link #NK_KEY_LEFT KEY_LEFT}</td><td>{@link #NK_KEY_RIGHT KEY_RIGHT}</td><td>{@link #NK_KEY_TEXT_INSERT_MODE KEY_TEXT_INSERT_MODE}</td><td>{@link #NK_KEY_TEXT_REPLACE_MODE KEY_TEXT_REPLACE_MODE}</td><td>{@link #NK_KEY_TEXT_RESET_MODE KEY_TEXT_RESET_MODE}</td><td>{@link #NK_KEY_TEXT_LINE_START KEY_TEXT_LINE_START}</td></tr><tr><td>{@link #NK_KEY_TEXT_LINE_END KEY_TEXT_LINE_END}</td><td>{@link #NK_KEY_TEXT_START KEY_TEXT_START}</td><td>{@link #NK_KEY_TEXT_END KEY_TEXT_END}</td><td>{@link #NK_KEY_TEXT_UNDO KEY_TEXT_UNDO}</td><td>{@link #NK_KEY_TEXT_REDO KEY_TEXT_REDO}</td><td>{@link #NK_KEY_TEXT_SELECT_ALL KEY_TEXT_SELECT_ALL}</td></tr><tr><td>{@link #NK_KEY_TEXT_WORD_LEFT KEY_TEXT_WORD_LEFT}</td><td>{@link #NK_KEY_TEXT_WORD_RIGHT KEY_TEXT_WORD_RIGHT}</td><td>{@link #NK_KEY_SCROLL_START KEY_SCROLL_START}</td><td>{@link #NK_KEY_SCROLL_END KEY_SCROLL_END}</td><td>{@link #NK_KEY_SCROLL_DOWN KEY_SCROLL_DOWN}</td><td>{@link #NK_KEY_SCROLL_UP KEY_SCROLL_UP}</td></tr></table>
      */
     public static void nk_input_key(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_keys") int key, @NativeType("int") boolean down) {
+        long __start = FunctionProfiler.start();
         nnk_input_key(ctx.address(), key, down ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 227, __start);
     }
 
     // --- [ nk_input_button ] ---
@@ -6538,7 +7007,9 @@ public class Nuklear {
      * @param id  one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table>
      */
     public static void nk_input_button(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_buttons") int id, int x, int y, @NativeType("int") boolean down) {
+        long __start = FunctionProfiler.start();
         nnk_input_button(ctx.address(), id, x, y, down ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 228, __start);
     }
 
     // --- [ nk_input_scroll ] ---
@@ -6554,7 +7025,9 @@ public class Nuklear {
      * @param val vector with both X- as well as Y-scroll value
      */
     public static void nk_input_scroll(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 val) {
+        long __start = FunctionProfiler.start();
         nnk_input_scroll(ctx.address(), val.address());
+        FunctionProfiler.end(PROFILE_ID + 229, __start);
     }
 
     // --- [ nk_input_char ] ---
@@ -6568,7 +7041,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_input_char(@NativeType("struct nk_context *") NkContext ctx, @NativeType("char") byte c) {
+        long __start = FunctionProfiler.start();
         nnk_input_char(ctx.address(), c);
+        FunctionProfiler.end(PROFILE_ID + 230, __start);
     }
 
     // --- [ nk_input_glyph ] ---
@@ -6585,7 +7060,9 @@ public class Nuklear {
         if (CHECKS) {
             check(glyph, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_input_glyph(ctx.address(), memAddress(glyph));
+        FunctionProfiler.end(PROFILE_ID + 231, __start);
     }
 
     // --- [ nk_input_unicode ] ---
@@ -6599,7 +7076,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_input_unicode(@NativeType("struct nk_context *") NkContext ctx, @NativeType("nk_rune") int unicode) {
+        long __start = FunctionProfiler.start();
         nnk_input_unicode(ctx.address(), unicode);
+        FunctionProfiler.end(PROFILE_ID + 232, __start);
     }
 
     // --- [ nk_input_end ] ---
@@ -6613,7 +7092,9 @@ public class Nuklear {
      * @param ctx the nuklear context
      */
     public static void nk_input_end(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_input_end(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 233, __start);
     }
 
     // --- [ nk_style_default ] ---
@@ -6623,7 +7104,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_style_default(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_style_default(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 234, __start);
     }
 
     // --- [ nk_style_from_table ] ---
@@ -6636,7 +7119,9 @@ public class Nuklear {
         if (CHECKS) {
             check(table, NK_COLOR_COUNT);
         }
+        long __start = FunctionProfiler.start();
         nnk_style_from_table(ctx.address(), table.address());
+        FunctionProfiler.end(PROFILE_ID + 235, __start);
     }
 
     // --- [ nk_style_load_cursor ] ---
@@ -6649,7 +7134,9 @@ public class Nuklear {
      * @param style one of:<br><table><tr><td>{@link #NK_CURSOR_ARROW CURSOR_ARROW}</td><td>{@link #NK_CURSOR_TEXT CURSOR_TEXT}</td><td>{@link #NK_CURSOR_MOVE CURSOR_MOVE}</td></tr><tr><td>{@link #NK_CURSOR_RESIZE_VERTICAL CURSOR_RESIZE_VERTICAL}</td><td>{@link #NK_CURSOR_RESIZE_HORIZONTAL CURSOR_RESIZE_HORIZONTAL}</td><td>{@link #NK_CURSOR_RESIZE_TOP_LEFT_DOWN_RIGHT CURSOR_RESIZE_TOP_LEFT_DOWN_RIGHT}</td></tr><tr><td>{@link #NK_CURSOR_RESIZE_TOP_RIGHT_DOWN_LEFT CURSOR_RESIZE_TOP_RIGHT_DOWN_LEFT}</td></tr></table>
      */
     public static void nk_style_load_cursor(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_style_cursor") int style, @NativeType("struct nk_cursor *") NkCursor cursor) {
+        long __start = FunctionProfiler.start();
         nnk_style_load_cursor(ctx.address(), style, cursor.address());
+        FunctionProfiler.end(PROFILE_ID + 236, __start);
     }
 
     // --- [ nk_style_load_all_cursors ] ---
@@ -6662,7 +7149,9 @@ public class Nuklear {
         if (CHECKS) {
             check(cursors, NK_CURSOR_COUNT);
         }
+        long __start = FunctionProfiler.start();
         nnk_style_load_all_cursors(ctx.address(), cursors.address());
+        FunctionProfiler.end(PROFILE_ID + 237, __start);
     }
 
     // --- [ nk_style_get_color_by_name ] ---
@@ -6674,7 +7163,8 @@ public class Nuklear {
     @Nullable
     @NativeType("char const *")
     public static String nk_style_get_color_by_name(@NativeType("enum nk_style_colors") int c) {
-        long __result = nnk_style_get_color_by_name(c);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 238, __start, nnk_style_get_color_by_name(c));
         return memUTF8Safe(__result);
     }
 
@@ -6685,7 +7175,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_style_set_font(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_user_font const *") NkUserFont font) {
+        long __start = FunctionProfiler.start();
         nnk_style_set_font(ctx.address(), font.address());
+        FunctionProfiler.end(PROFILE_ID + 239, __start);
     }
 
     // --- [ nk_style_set_cursor ] ---
@@ -6698,7 +7190,8 @@ public class Nuklear {
      * @param style one of:<br><table><tr><td>{@link #NK_CURSOR_ARROW CURSOR_ARROW}</td><td>{@link #NK_CURSOR_TEXT CURSOR_TEXT}</td><td>{@link #NK_CURSOR_MOVE CURSOR_MOVE}</td></tr><tr><td>{@link #NK_CURSOR_RESIZE_VERTICAL CURSOR_RESIZE_VERTICAL}</td><td>{@link #NK_CURSOR_RESIZE_HORIZONTAL CURSOR_RESIZE_HORIZONTAL}</td><td>{@link #NK_CURSOR_RESIZE_TOP_LEFT_DOWN_RIGHT CURSOR_RESIZE_TOP_LEFT_DOWN_RIGHT}</td></tr><tr><td>{@link #NK_CURSOR_RESIZE_TOP_RIGHT_DOWN_LEFT CURSOR_RESIZE_TOP_RIGHT_DOWN_LEFT}</td></tr></table>
      */
     public static int nk_style_set_cursor(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_style_cursor") int style) {
-        return nnk_style_set_cursor(ctx.address(), style);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 240, __start, nnk_style_set_cursor(ctx.address(), style));
     }
 
     // --- [ nk_style_show_cursor ] ---
@@ -6708,7 +7201,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_style_show_cursor(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_style_show_cursor(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 241, __start);
     }
 
     // --- [ nk_style_hide_cursor ] ---
@@ -6718,7 +7213,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_style_hide_cursor(@NativeType("struct nk_context *") NkContext ctx) {
+        long __start = FunctionProfiler.start();
         nnk_style_hide_cursor(ctx.address());
+        FunctionProfiler.end(PROFILE_ID + 242, __start);
     }
 
     // --- [ nk_style_push_font ] ---
@@ -6728,7 +7225,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_push_font(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_user_font const *") NkUserFont font) {
-        return nnk_style_push_font(ctx.address(), font.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 243, __start, nnk_style_push_font(ctx.address(), font.address()));
     }
 
     // --- [ nk_style_push_float ] ---
@@ -6741,7 +7239,8 @@ public class Nuklear {
         if (CHECKS) {
             check(address, 1);
         }
-        return nnk_style_push_float(ctx.address(), memAddress(address), value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 244, __start, nnk_style_push_float(ctx.address(), memAddress(address), value));
     }
 
     // --- [ nk_style_push_vec2 ] ---
@@ -6751,7 +7250,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_push_vec2(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2 *") NkVec2 address, @NativeType("struct nk_vec2") NkVec2 value) {
-        return nnk_style_push_vec2(ctx.address(), address.address(), value.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 245, __start, nnk_style_push_vec2(ctx.address(), address.address(), value.address()));
     }
 
     // --- [ nk_style_push_style_item ] ---
@@ -6761,7 +7261,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_push_style_item(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_style_item *") NkStyleItem address, @NativeType("struct nk_style_item") NkStyleItem value) {
-        return nnk_style_push_style_item(ctx.address(), address.address(), value.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 246, __start, nnk_style_push_style_item(ctx.address(), address.address(), value.address()));
     }
 
     // --- [ nk_style_push_flags ] ---
@@ -6774,7 +7275,8 @@ public class Nuklear {
         if (CHECKS) {
             check(address, 1);
         }
-        return nnk_style_push_flags(ctx.address(), memAddress(address), value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 247, __start, nnk_style_push_flags(ctx.address(), memAddress(address), value));
     }
 
     // --- [ nk_style_push_color ] ---
@@ -6784,7 +7286,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_push_color(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_color *") NkColor address, @NativeType("struct nk_color") NkColor value) {
-        return nnk_style_push_color(ctx.address(), address.address(), value.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 248, __start, nnk_style_push_color(ctx.address(), address.address(), value.address()));
     }
 
     // --- [ nk_style_pop_font ] ---
@@ -6794,7 +7297,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_pop_font(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_style_pop_font(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 249, __start, nnk_style_pop_font(ctx.address()));
     }
 
     // --- [ nk_style_pop_float ] ---
@@ -6804,7 +7308,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_pop_float(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_style_pop_float(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 250, __start, nnk_style_pop_float(ctx.address()));
     }
 
     // --- [ nk_style_pop_vec2 ] ---
@@ -6814,7 +7319,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_pop_vec2(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_style_pop_vec2(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 251, __start, nnk_style_pop_vec2(ctx.address()));
     }
 
     // --- [ nk_style_pop_style_item ] ---
@@ -6824,7 +7330,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_pop_style_item(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_style_pop_style_item(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 252, __start, nnk_style_pop_style_item(ctx.address()));
     }
 
     // --- [ nk_style_pop_flags ] ---
@@ -6834,7 +7341,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_pop_flags(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_style_pop_flags(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 253, __start, nnk_style_pop_flags(ctx.address()));
     }
 
     // --- [ nk_style_pop_color ] ---
@@ -6844,7 +7352,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static int nk_style_pop_color(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_style_pop_color(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 254, __start, nnk_style_pop_color(ctx.address()));
     }
 
     // --- [ nk_widget_bounds ] ---
@@ -6855,7 +7364,9 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("struct nk_rect")
     public static NkRect nk_widget_bounds(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_widget_bounds(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 255, __start);
         return __result;
     }
 
@@ -6867,7 +7378,9 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_widget_position(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_widget_position(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 256, __start);
         return __result;
     }
 
@@ -6879,7 +7392,9 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_widget_size(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_widget_size(ctx.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 257, __start);
         return __result;
     }
 
@@ -6890,7 +7405,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static float nk_widget_width(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_widget_width(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 258, __start, nnk_widget_width(ctx.address()));
     }
 
     // --- [ nk_widget_height ] ---
@@ -6900,7 +7416,8 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static float nk_widget_height(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_widget_height(ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 259, __start, nnk_widget_height(ctx.address()));
     }
 
     // --- [ nk_widget_is_hovered ] ---
@@ -6911,7 +7428,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_widget_is_hovered(@NativeType("struct nk_context *") NkContext ctx) {
-        return nnk_widget_is_hovered(ctx.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 260, __start, nnk_widget_is_hovered(ctx.address())) != 0;
     }
 
     // --- [ nk_widget_is_mouse_clicked ] ---
@@ -6922,7 +7440,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("int")
     public static boolean nk_widget_is_mouse_clicked(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_buttons") int btn) {
-        return nnk_widget_is_mouse_clicked(ctx.address(), btn) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 261, __start, nnk_widget_is_mouse_clicked(ctx.address(), btn)) != 0;
     }
 
     // --- [ nk_widget_has_mouse_click_down ] ---
@@ -6936,7 +7455,8 @@ public class Nuklear {
      */
     @NativeType("int")
     public static boolean nk_widget_has_mouse_click_down(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_buttons") int btn, @NativeType("int") boolean down) {
-        return nnk_widget_has_mouse_click_down(ctx.address(), btn, down ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 262, __start, nnk_widget_has_mouse_click_down(ctx.address(), btn, down ? 1 : 0)) != 0;
     }
 
     // --- [ nk_spacing ] ---
@@ -6946,7 +7466,9 @@ public class Nuklear {
 
     /** @param ctx the nuklear context */
     public static void nk_spacing(@NativeType("struct nk_context *") NkContext ctx, int cols) {
+        long __start = FunctionProfiler.start();
         nnk_spacing(ctx.address(), cols);
+        FunctionProfiler.end(PROFILE_ID + 263, __start);
     }
 
     // --- [ nk_widget ] ---
@@ -6957,7 +7479,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("enum nk_widget_layout_states")
     public static int nk_widget(@NativeType("struct nk_rect *") NkRect bounds, @NativeType("struct nk_context const *") NkContext ctx) {
-        return nnk_widget(bounds.address(), ctx.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 264, __start, nnk_widget(bounds.address(), ctx.address()));
     }
 
     // --- [ nk_widget_fitting ] ---
@@ -6968,7 +7491,8 @@ public class Nuklear {
     /** @param ctx the nuklear context */
     @NativeType("enum nk_widget_layout_states")
     public static int nk_widget_fitting(@NativeType("struct nk_rect *") NkRect bounds, @NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_vec2") NkVec2 item_padding) {
-        return nnk_widget_fitting(bounds.address(), ctx.address(), item_padding.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 265, __start, nnk_widget_fitting(bounds.address(), ctx.address(), item_padding.address()));
     }
 
     // --- [ nk_rgb ] ---
@@ -6977,7 +7501,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgb(int r, int g, int b, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgb(r, g, b, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 266, __start);
         return __result;
     }
 
@@ -6990,7 +7516,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgb, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgb_iv(memAddress(rgb), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 267, __start);
         return __result;
     }
 
@@ -7003,7 +7531,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgb, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgb_bv(memAddress(rgb), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 268, __start);
         return __result;
     }
 
@@ -7013,7 +7543,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgb_f(float r, float g, float b, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgb_f(r, g, b, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 269, __start);
         return __result;
     }
 
@@ -7026,7 +7558,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgb, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgb_fv(memAddress(rgb), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 270, __start);
         return __result;
     }
 
@@ -7036,7 +7570,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgb_cf(@NativeType("struct nk_colorf") NkColorf c, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgb_cf(c.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 271, __start);
         return __result;
     }
 
@@ -7049,7 +7585,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgb, 6);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgb_hex(memAddress(rgb), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 272, __start);
         return __result;
     }
 
@@ -7062,7 +7600,9 @@ public class Nuklear {
         try {
             stack.nASCII(rgb, true);
             long rgbEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_rgb_hex(rgbEncoded, __result.address());
+            FunctionProfiler.end(PROFILE_ID + 272, __start);
             return __result;
         } finally {
             stack.setPointer(stackPointer);
@@ -7075,7 +7615,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgba(int r, int g, int b, int a, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgba(r, g, b, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 273, __start);
         return __result;
     }
 
@@ -7085,7 +7627,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgba_u32(@NativeType("nk_uint") int in, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgba_u32(in, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 274, __start);
         return __result;
     }
 
@@ -7098,7 +7642,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgba_iv(memAddress(rgba), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 275, __start);
         return __result;
     }
 
@@ -7111,7 +7657,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgba_bv(memAddress(rgba), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 276, __start);
         return __result;
     }
 
@@ -7121,7 +7669,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgba_f(float r, float g, float b, float a, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgba_f(r, g, b, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 277, __start);
         return __result;
     }
 
@@ -7134,7 +7684,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgba_fv(memAddress(rgba), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 278, __start);
         return __result;
     }
 
@@ -7144,7 +7696,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_rgba_cf(@NativeType("struct nk_colorf") NkColorf c, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_rgba_cf(c.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 279, __start);
         return __result;
     }
 
@@ -7157,7 +7711,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba, 8);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgba_hex(memAddress(rgba), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 280, __start);
         return __result;
     }
 
@@ -7170,7 +7726,9 @@ public class Nuklear {
         try {
             stack.nASCII(rgba, true);
             long rgbaEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_rgba_hex(rgbaEncoded, __result.address());
+            FunctionProfiler.end(PROFILE_ID + 280, __start);
             return __result;
         } finally {
             stack.setPointer(stackPointer);
@@ -7183,7 +7741,9 @@ public class Nuklear {
 
     @NativeType("struct nk_colorf")
     public static NkColorf nk_hsva_colorf(float h, float s, float v, float a, @NativeType("struct nk_colorf") NkColorf __result) {
+        long __start = FunctionProfiler.start();
         nnk_hsva_colorf(h, s, v, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 281, __start);
         return __result;
     }
 
@@ -7196,7 +7756,9 @@ public class Nuklear {
         if (CHECKS) {
             check(c, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_colorfv(memAddress(c), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 282, __start);
         return __result;
     }
 
@@ -7211,7 +7773,9 @@ public class Nuklear {
             check(out_v, 1);
             check(out_a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_colorf_hsva_f(memAddress(out_h), memAddress(out_s), memAddress(out_v), memAddress(out_a), in.address());
+        FunctionProfiler.end(PROFILE_ID + 283, __start);
     }
 
     // --- [ nk_colorf_hsva_fv ] ---
@@ -7222,7 +7786,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_colorf_hsva_fv(memAddress(hsva), in.address());
+        FunctionProfiler.end(PROFILE_ID + 284, __start);
     }
 
     // --- [ nk_hsv ] ---
@@ -7231,7 +7797,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_hsv(int h, int s, int v, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_hsv(h, s, v, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 285, __start);
         return __result;
     }
 
@@ -7244,7 +7812,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsv_iv(memAddress(hsv), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 286, __start);
         return __result;
     }
 
@@ -7257,7 +7827,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsv_bv(memAddress(hsv), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 287, __start);
         return __result;
     }
 
@@ -7267,7 +7839,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_hsv_f(float h, float s, float v, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_hsv_f(h, s, v, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 288, __start);
         return __result;
     }
 
@@ -7280,7 +7854,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsv_fv(memAddress(hsv), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 289, __start);
         return __result;
     }
 
@@ -7290,7 +7866,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_hsva(int h, int s, int v, int a, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_hsva(h, s, v, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 290, __start);
         return __result;
     }
 
@@ -7303,7 +7881,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_iv(memAddress(hsva), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 291, __start);
         return __result;
     }
 
@@ -7316,7 +7896,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_bv(memAddress(hsva), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 292, __start);
         return __result;
     }
 
@@ -7326,7 +7908,9 @@ public class Nuklear {
 
     @NativeType("struct nk_color")
     public static NkColor nk_hsva_f(float h, float s, float v, float a, @NativeType("struct nk_color") NkColor __result) {
+        long __start = FunctionProfiler.start();
         nnk_hsva_f(h, s, v, a, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 293, __start);
         return __result;
     }
 
@@ -7339,7 +7923,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_fv(memAddress(hsva), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 294, __start);
         return __result;
     }
 
@@ -7354,7 +7940,9 @@ public class Nuklear {
             check(b, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_f(memAddress(r), memAddress(g), memAddress(b), memAddress(a), color.address());
+        FunctionProfiler.end(PROFILE_ID + 295, __start);
     }
 
     // --- [ nk_color_fv ] ---
@@ -7365,7 +7953,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_fv(memAddress(rgba_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 296, __start);
     }
 
     // --- [ nk_color_cf ] ---
@@ -7374,7 +7964,9 @@ public class Nuklear {
 
     @NativeType("struct nk_colorf")
     public static NkColorf nk_color_cf(@NativeType("struct nk_color") NkColor color, @NativeType("struct nk_colorf") NkColorf __result) {
+        long __start = FunctionProfiler.start();
         nnk_color_cf(color.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 297, __start);
         return __result;
     }
 
@@ -7389,7 +7981,9 @@ public class Nuklear {
             check(b, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_d(memAddress(r), memAddress(g), memAddress(b), memAddress(a), color.address());
+        FunctionProfiler.end(PROFILE_ID + 298, __start);
     }
 
     // --- [ nk_color_dv ] ---
@@ -7400,7 +7994,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_dv(memAddress(rgba_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 299, __start);
     }
 
     // --- [ nk_color_u32 ] ---
@@ -7409,7 +8005,8 @@ public class Nuklear {
 
     @NativeType("nk_uint")
     public static int nk_color_u32(@NativeType("struct nk_color") NkColor color) {
-        return nnk_color_u32(color.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 300, __start, nnk_color_u32(color.address()));
     }
 
     // --- [ nk_color_hex_rgba ] ---
@@ -7420,7 +8017,9 @@ public class Nuklear {
         if (CHECKS) {
             check(output, 8);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hex_rgba(memAddress(output), color.address());
+        FunctionProfiler.end(PROFILE_ID + 301, __start);
     }
 
     // --- [ nk_color_hex_rgb ] ---
@@ -7431,7 +8030,9 @@ public class Nuklear {
         if (CHECKS) {
             check(output, 6);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hex_rgb(memAddress(output), color.address());
+        FunctionProfiler.end(PROFILE_ID + 302, __start);
     }
 
     // --- [ nk_color_hsv_i ] ---
@@ -7444,7 +8045,9 @@ public class Nuklear {
             check(out_s, 1);
             check(out_v, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_i(memAddress(out_h), memAddress(out_s), memAddress(out_v), color.address());
+        FunctionProfiler.end(PROFILE_ID + 303, __start);
     }
 
     // --- [ nk_color_hsv_b ] ---
@@ -7457,7 +8060,9 @@ public class Nuklear {
             check(out_s, 1);
             check(out_v, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_b(memAddress(out_h), memAddress(out_s), memAddress(out_v), color.address());
+        FunctionProfiler.end(PROFILE_ID + 304, __start);
     }
 
     // --- [ nk_color_hsv_iv ] ---
@@ -7468,7 +8073,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv_out, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_iv(memAddress(hsv_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 305, __start);
     }
 
     // --- [ nk_color_hsv_bv ] ---
@@ -7479,7 +8086,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv_out, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_bv(memAddress(hsv_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 306, __start);
     }
 
     // --- [ nk_color_hsv_f ] ---
@@ -7492,7 +8101,9 @@ public class Nuklear {
             check(out_s, 1);
             check(out_v, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_f(memAddress(out_h), memAddress(out_s), memAddress(out_v), color.address());
+        FunctionProfiler.end(PROFILE_ID + 307, __start);
     }
 
     // --- [ nk_color_hsv_fv ] ---
@@ -7503,7 +8114,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv_out, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_fv(memAddress(hsv_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 308, __start);
     }
 
     // --- [ nk_color_hsva_i ] ---
@@ -7517,7 +8130,9 @@ public class Nuklear {
             check(v, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_i(memAddress(h), memAddress(s), memAddress(v), memAddress(a), color.address());
+        FunctionProfiler.end(PROFILE_ID + 309, __start);
     }
 
     // --- [ nk_color_hsva_b ] ---
@@ -7531,7 +8146,9 @@ public class Nuklear {
             check(v, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_b(memAddress(h), memAddress(s), memAddress(v), memAddress(a), color.address());
+        FunctionProfiler.end(PROFILE_ID + 310, __start);
     }
 
     // --- [ nk_color_hsva_iv ] ---
@@ -7542,7 +8159,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_iv(memAddress(hsva_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 311, __start);
     }
 
     // --- [ nk_color_hsva_bv ] ---
@@ -7553,7 +8172,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_bv(memAddress(hsva_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 312, __start);
     }
 
     // --- [ nk_color_hsva_f ] ---
@@ -7567,7 +8188,9 @@ public class Nuklear {
             check(out_v, 1);
             check(out_a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_f(memAddress(out_h), memAddress(out_s), memAddress(out_v), memAddress(out_a), color.address());
+        FunctionProfiler.end(PROFILE_ID + 313, __start);
     }
 
     // --- [ nk_color_hsva_fv ] ---
@@ -7578,7 +8201,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_fv(memAddress(hsva_out), color.address());
+        FunctionProfiler.end(PROFILE_ID + 314, __start);
     }
 
     // --- [ nk_handle_ptr ] ---
@@ -7590,7 +8215,9 @@ public class Nuklear {
         if (CHECKS) {
             check(ptr);
         }
+        long __start = FunctionProfiler.start();
         nnk_handle_ptr(ptr, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 315, __start);
         return __result;
     }
 
@@ -7600,7 +8227,9 @@ public class Nuklear {
 
     @NativeType("nk_handle")
     public static NkHandle nk_handle_id(int id, @NativeType("nk_handle") NkHandle __result) {
+        long __start = FunctionProfiler.start();
         nnk_handle_id(id, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 316, __start);
         return __result;
     }
 
@@ -7610,7 +8239,9 @@ public class Nuklear {
 
     @NativeType("struct nk_image")
     public static NkImage nk_image_handle(@NativeType("nk_handle") NkHandle handle, @NativeType("struct nk_image") NkImage __result) {
+        long __start = FunctionProfiler.start();
         nnk_image_handle(handle.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 317, __start);
         return __result;
     }
 
@@ -7623,7 +8254,9 @@ public class Nuklear {
         if (CHECKS) {
             check(ptr);
         }
+        long __start = FunctionProfiler.start();
         nnk_image_ptr(ptr, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 318, __start);
         return __result;
     }
 
@@ -7633,7 +8266,9 @@ public class Nuklear {
 
     @NativeType("struct nk_image")
     public static NkImage nk_image_id(int id, @NativeType("struct nk_image") NkImage __result) {
+        long __start = FunctionProfiler.start();
         nnk_image_id(id, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 319, __start);
         return __result;
     }
 
@@ -7643,7 +8278,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_image_is_subimage(@NativeType("struct nk_image const *") NkImage img) {
-        return nnk_image_is_subimage(img.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 320, __start, nnk_image_is_subimage(img.address())) != 0;
     }
 
     // --- [ nk_subimage_ptr ] ---
@@ -7655,7 +8291,9 @@ public class Nuklear {
         if (CHECKS) {
             check(ptr);
         }
+        long __start = FunctionProfiler.start();
         nnk_subimage_ptr(ptr, w, h, sub_region.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 321, __start);
         return __result;
     }
 
@@ -7665,7 +8303,9 @@ public class Nuklear {
 
     @NativeType("struct nk_image")
     public static NkImage nk_subimage_id(int id, @NativeType("unsigned short") short w, @NativeType("unsigned short") short h, @NativeType("struct nk_rect") NkRect sub_region, @NativeType("struct nk_image") NkImage __result) {
+        long __start = FunctionProfiler.start();
         nnk_subimage_id(id, w, h, sub_region.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 322, __start);
         return __result;
     }
 
@@ -7675,7 +8315,9 @@ public class Nuklear {
 
     @NativeType("struct nk_image")
     public static NkImage nk_subimage_handle(@NativeType("nk_handle") NkHandle handle, @NativeType("unsigned short") short w, @NativeType("unsigned short") short h, @NativeType("struct nk_rect") NkRect sub_region, @NativeType("struct nk_image") NkImage __result) {
+        long __start = FunctionProfiler.start();
         nnk_subimage_handle(handle.address(), w, h, sub_region.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 323, __start);
         return __result;
     }
 
@@ -7685,7 +8327,8 @@ public class Nuklear {
 
     @NativeType("nk_hash")
     public static int nk_murmur_hash(@NativeType("void const *") ByteBuffer key, @NativeType("nk_hash") int seed) {
-        return nnk_murmur_hash(memAddress(key), key.remaining(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 324, __start, nnk_murmur_hash(memAddress(key), key.remaining(), seed));
     }
 
     // --- [ nk_triangle_from_direction ] ---
@@ -7695,7 +8338,9 @@ public class Nuklear {
 
     /** @param direction one of:<br><table><tr><td>{@link #NK_UP UP}</td><td>{@link #NK_RIGHT RIGHT}</td><td>{@link #NK_DOWN DOWN}</td><td>{@link #NK_LEFT LEFT}</td></tr></table> */
     public static void nk_triangle_from_direction(@NativeType("struct nk_vec2 *") NkVec2 result, @NativeType("struct nk_rect") NkRect r, float pad_x, float pad_y, @NativeType("enum nk_heading") int direction) {
+        long __start = FunctionProfiler.start();
         nnk_triangle_from_direction(result.address(), r.address(), pad_x, pad_y, direction);
+        FunctionProfiler.end(PROFILE_ID + 325, __start);
     }
 
     // --- [ nk_vec2 ] ---
@@ -7704,7 +8349,9 @@ public class Nuklear {
 
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_vec2(float x, float y, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_vec2(x, y, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 326, __start);
         return __result;
     }
 
@@ -7714,7 +8361,9 @@ public class Nuklear {
 
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_vec2i(int x, int y, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_vec2i(x, y, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 327, __start);
         return __result;
     }
 
@@ -7727,7 +8376,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xy, 2);
         }
+        long __start = FunctionProfiler.start();
         nnk_vec2v(memAddress(xy), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 328, __start);
         return __result;
     }
 
@@ -7740,7 +8391,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xy, 2);
         }
+        long __start = FunctionProfiler.start();
         nnk_vec2iv(memAddress(xy), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 329, __start);
         return __result;
     }
 
@@ -7750,7 +8403,9 @@ public class Nuklear {
 
     @NativeType("struct nk_rect")
     public static NkRect nk_get_null_rect(@NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_get_null_rect(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 330, __start);
         return __result;
     }
 
@@ -7760,7 +8415,9 @@ public class Nuklear {
 
     @NativeType("struct nk_rect")
     public static NkRect nk_rect(float x, float y, float w, float h, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_rect(x, y, w, h, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 331, __start);
         return __result;
     }
 
@@ -7770,7 +8427,9 @@ public class Nuklear {
 
     @NativeType("struct nk_rect")
     public static NkRect nk_recti(int x, int y, int w, int h, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_recti(x, y, w, h, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 332, __start);
         return __result;
     }
 
@@ -7780,7 +8439,9 @@ public class Nuklear {
 
     @NativeType("struct nk_rect")
     public static NkRect nk_recta(@NativeType("struct nk_vec2") NkVec2 pos, @NativeType("struct nk_vec2") NkVec2 size, @NativeType("struct nk_rect") NkRect __result) {
+        long __start = FunctionProfiler.start();
         nnk_recta(pos.address(), size.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 333, __start);
         return __result;
     }
 
@@ -7793,7 +8454,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xywh, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rectv(memAddress(xywh), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 334, __start);
         return __result;
     }
 
@@ -7806,7 +8469,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xywh, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rectiv(memAddress(xywh), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 335, __start);
         return __result;
     }
 
@@ -7816,7 +8481,9 @@ public class Nuklear {
 
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_rect_pos(@NativeType("struct nk_rect") NkRect r, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_rect_pos(r.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 336, __start);
         return __result;
     }
 
@@ -7826,7 +8493,9 @@ public class Nuklear {
 
     @NativeType("struct nk_vec2")
     public static NkVec2 nk_rect_size(@NativeType("struct nk_rect") NkRect r, @NativeType("struct nk_vec2") NkVec2 __result) {
+        long __start = FunctionProfiler.start();
         nnk_rect_size(r.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 337, __start);
         return __result;
     }
 
@@ -7838,7 +8507,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_strlen(memAddress(str));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 338, __start, nnk_strlen(memAddress(str)));
     }
 
     public static int nk_strlen(@NativeType("char const *") CharSequence str) {
@@ -7846,7 +8516,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_strlen(strEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 338, __start, nnk_strlen(strEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -7861,7 +8532,8 @@ public class Nuklear {
             checkNT1(s1);
             checkNT1(s2);
         }
-        return nnk_stricmp(memAddress(s1), memAddress(s2));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 339, __start, nnk_stricmp(memAddress(s1), memAddress(s2)));
     }
 
     public static int nk_stricmp(@NativeType("char const *") CharSequence s1, @NativeType("char const *") CharSequence s2) {
@@ -7871,7 +8543,8 @@ public class Nuklear {
             long s1Encoded = stack.getPointerAddress();
             stack.nUTF8(s2, true);
             long s2Encoded = stack.getPointerAddress();
-            return nnk_stricmp(s1Encoded, s2Encoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 339, __start, nnk_stricmp(s1Encoded, s2Encoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -7886,7 +8559,8 @@ public class Nuklear {
             checkNT1(s1);
             checkNT1(s2);
         }
-        return nnk_stricmpn(memAddress(s1), memAddress(s2), n);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 340, __start, nnk_stricmpn(memAddress(s1), memAddress(s2), n));
     }
 
     public static int nk_stricmpn(@NativeType("char const *") CharSequence s1, @NativeType("char const *") CharSequence s2, int n) {
@@ -7896,7 +8570,8 @@ public class Nuklear {
             long s1Encoded = stack.getPointerAddress();
             stack.nUTF8(s2, true);
             long s2Encoded = stack.getPointerAddress();
-            return nnk_stricmpn(s1Encoded, s2Encoded, n);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 340, __start, nnk_stricmpn(s1Encoded, s2Encoded, n));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -7911,7 +8586,8 @@ public class Nuklear {
             checkNT1(str);
             check(endptr, 1);
         }
-        return nnk_strtoi(memAddress(str), memAddress(endptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 341, __start, nnk_strtoi(memAddress(str), memAddress(endptr)));
     }
 
     public static int nk_strtoi(@NativeType("char const *") CharSequence str, @NativeType("char const **") PointerBuffer endptr) {
@@ -7922,7 +8598,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_strtoi(strEncoded, memAddress(endptr));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 341, __start, nnk_strtoi(strEncoded, memAddress(endptr)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -7937,7 +8614,8 @@ public class Nuklear {
             checkNT1(str);
             check(endptr, 1);
         }
-        return nnk_strtof(memAddress(str), memAddress(endptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 342, __start, nnk_strtof(memAddress(str), memAddress(endptr)));
     }
 
     public static float nk_strtof(@NativeType("char const *") CharSequence str, @NativeType("char const **") PointerBuffer endptr) {
@@ -7948,7 +8626,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_strtof(strEncoded, memAddress(endptr));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 342, __start, nnk_strtof(strEncoded, memAddress(endptr)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -7963,7 +8642,8 @@ public class Nuklear {
             checkNT1(str);
             check(endptr, 1);
         }
-        return nnk_strtod(memAddress(str), memAddress(endptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 343, __start, nnk_strtod(memAddress(str), memAddress(endptr)));
     }
 
     public static double nk_strtod(@NativeType("char const *") CharSequence str, @NativeType("char const **") PointerBuffer endptr) {
@@ -7974,7 +8654,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_strtod(strEncoded, memAddress(endptr));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 343, __start, nnk_strtod(strEncoded, memAddress(endptr)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8000,7 +8681,8 @@ public class Nuklear {
             checkNT1(str);
             checkNT1(regexp);
         }
-        return nnk_strfilter(memAddress(str), memAddress(regexp)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 344, __start, nnk_strfilter(memAddress(str), memAddress(regexp))) != 0;
     }
 
     /**
@@ -8020,7 +8702,8 @@ public class Nuklear {
             long strEncoded = stack.getPointerAddress();
             stack.nUTF8(regexp, true);
             long regexpEncoded = stack.getPointerAddress();
-            return nnk_strfilter(strEncoded, regexpEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 344, __start, nnk_strfilter(strEncoded, regexpEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8042,7 +8725,8 @@ public class Nuklear {
             checkNT1(pattern);
             check(out_score, 1);
         }
-        return nnk_strmatch_fuzzy_string(memAddress(str), memAddress(pattern), memAddress(out_score)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 345, __start, nnk_strmatch_fuzzy_string(memAddress(str), memAddress(pattern), memAddress(out_score))) != 0;
     }
 
     /**
@@ -8060,7 +8744,8 @@ public class Nuklear {
             long strEncoded = stack.getPointerAddress();
             stack.nUTF8(pattern, true);
             long patternEncoded = stack.getPointerAddress();
-            return nnk_strmatch_fuzzy_string(strEncoded, patternEncoded, memAddress(out_score)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 345, __start, nnk_strmatch_fuzzy_string(strEncoded, patternEncoded, memAddress(out_score))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8075,7 +8760,8 @@ public class Nuklear {
             checkNT1(pattern);
             check(out_score, 1);
         }
-        return nnk_strmatch_fuzzy_text(memAddress(txt), txt.remaining(), memAddress(pattern), memAddress(out_score));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 346, __start, nnk_strmatch_fuzzy_text(memAddress(txt), txt.remaining(), memAddress(pattern), memAddress(out_score)));
     }
 
     public static int nk_strmatch_fuzzy_text(@NativeType("char const *") CharSequence txt, @NativeType("char const *") CharSequence pattern, @NativeType("int *") IntBuffer out_score) {
@@ -8088,7 +8774,8 @@ public class Nuklear {
             long txtEncoded = stack.getPointerAddress();
             stack.nUTF8(pattern, true);
             long patternEncoded = stack.getPointerAddress();
-            return nnk_strmatch_fuzzy_text(txtEncoded, txtEncodedLength, patternEncoded, memAddress(out_score));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 346, __start, nnk_strmatch_fuzzy_text(txtEncoded, txtEncodedLength, patternEncoded, memAddress(out_score)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8102,7 +8789,8 @@ public class Nuklear {
         if (CHECKS) {
             check(u, 1);
         }
-        return nnk_utf_decode(memAddress(c), memAddress(u), c.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 347, __start, nnk_utf_decode(memAddress(c), memAddress(u), c.remaining()));
     }
 
     // --- [ nk_utf_encode ] ---
@@ -8110,7 +8798,8 @@ public class Nuklear {
     public static native int nnk_utf_encode(int u, long c, int clen);
 
     public static int nk_utf_encode(@NativeType("nk_rune") int u, @NativeType("char *") ByteBuffer c) {
-        return nnk_utf_encode(u, memAddress(c), c.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 348, __start, nnk_utf_encode(u, memAddress(c), c.remaining()));
     }
 
     // --- [ nk_utf_len ] ---
@@ -8118,7 +8807,8 @@ public class Nuklear {
     public static native int nnk_utf_len(long str, int byte_len);
 
     public static int nk_utf_len(@NativeType("char const *") ByteBuffer str) {
-        return nnk_utf_len(memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 349, __start, nnk_utf_len(memAddress(str), str.remaining()));
     }
 
     // --- [ nk_utf_at ] ---
@@ -8134,7 +8824,8 @@ public class Nuklear {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer len = stack.callocInt(1);
-            long __result = nnk_utf_at(memAddress(buffer), buffer.remaining(), index, memAddress(unicode), memAddress(len));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 350, __start, nnk_utf_at(memAddress(buffer), buffer.remaining(), index, memAddress(unicode), memAddress(len)));
             return memByteBufferSafe(__result, len.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -8146,7 +8837,9 @@ public class Nuklear {
     public static native void nnk_buffer_init(long buffer, long allocator, long size);
 
     public static void nk_buffer_init(@NativeType("struct nk_buffer *") NkBuffer buffer, @NativeType("struct nk_allocator const *") NkAllocator allocator, @NativeType("nk_size") long size) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_init(buffer.address(), allocator.address(), size);
+        FunctionProfiler.end(PROFILE_ID + 351, __start);
     }
 
     // --- [ nk_buffer_init_fixed ] ---
@@ -8154,7 +8847,9 @@ public class Nuklear {
     public static native void nnk_buffer_init_fixed(long buffer, long memory, long size);
 
     public static void nk_buffer_init_fixed(@NativeType("struct nk_buffer *") NkBuffer buffer, @NativeType("void *") ByteBuffer memory) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_init_fixed(buffer.address(), memAddress(memory), memory.remaining());
+        FunctionProfiler.end(PROFILE_ID + 352, __start);
     }
 
     // --- [ nk_buffer_info ] ---
@@ -8162,7 +8857,9 @@ public class Nuklear {
     public static native void nnk_buffer_info(long status, long buffer);
 
     public static void nk_buffer_info(@NativeType("struct nk_memory_status *") NkMemoryStatus status, @NativeType("struct nk_buffer *") NkBuffer buffer) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_info(status.address(), buffer.address());
+        FunctionProfiler.end(PROFILE_ID + 353, __start);
     }
 
     // --- [ nk_buffer_push ] ---
@@ -8172,7 +8869,9 @@ public class Nuklear {
 
     /** @param type one of:<br><table><tr><td>{@link #NK_BUFFER_FRONT BUFFER_FRONT}</td><td>{@link #NK_BUFFER_BACK BUFFER_BACK}</td><td>{@link #NK_BUFFER_MAX BUFFER_MAX}</td></tr></table> */
     public static void nk_buffer_push(@NativeType("struct nk_buffer *") NkBuffer buffer, @NativeType("enum nk_buffer_allocation_type") int type, @NativeType("void const *") ByteBuffer memory, @NativeType("nk_size") long align) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_push(buffer.address(), type, memAddress(memory), memory.remaining(), align);
+        FunctionProfiler.end(PROFILE_ID + 354, __start);
     }
 
     // --- [ nk_buffer_mark ] ---
@@ -8182,7 +8881,9 @@ public class Nuklear {
 
     /** @param type one of:<br><table><tr><td>{@link #NK_BUFFER_FRONT BUFFER_FRONT}</td><td>{@link #NK_BUFFER_BACK BUFFER_BACK}</td><td>{@link #NK_BUFFER_MAX BUFFER_MAX}</td></tr></table> */
     public static void nk_buffer_mark(@NativeType("struct nk_buffer *") NkBuffer buffer, @NativeType("enum nk_buffer_allocation_type") int type) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_mark(buffer.address(), type);
+        FunctionProfiler.end(PROFILE_ID + 355, __start);
     }
 
     // --- [ nk_buffer_reset ] ---
@@ -8192,7 +8893,9 @@ public class Nuklear {
 
     /** @param type one of:<br><table><tr><td>{@link #NK_BUFFER_FRONT BUFFER_FRONT}</td><td>{@link #NK_BUFFER_BACK BUFFER_BACK}</td><td>{@link #NK_BUFFER_MAX BUFFER_MAX}</td></tr></table> */
     public static void nk_buffer_reset(@NativeType("struct nk_buffer *") NkBuffer buffer, @NativeType("enum nk_buffer_allocation_type") int type) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_reset(buffer.address(), type);
+        FunctionProfiler.end(PROFILE_ID + 356, __start);
     }
 
     // --- [ nk_buffer_clear ] ---
@@ -8200,7 +8903,9 @@ public class Nuklear {
     public static native void nnk_buffer_clear(long buffer);
 
     public static void nk_buffer_clear(@NativeType("struct nk_buffer *") NkBuffer buffer) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_clear(buffer.address());
+        FunctionProfiler.end(PROFILE_ID + 357, __start);
     }
 
     // --- [ nk_buffer_free ] ---
@@ -8208,7 +8913,9 @@ public class Nuklear {
     public static native void nnk_buffer_free(long buffer);
 
     public static void nk_buffer_free(@NativeType("struct nk_buffer *") NkBuffer buffer) {
+        long __start = FunctionProfiler.start();
         nnk_buffer_free(buffer.address());
+        FunctionProfiler.end(PROFILE_ID + 358, __start);
     }
 
     // --- [ nk_buffer_memory ] ---
@@ -8217,7 +8924,8 @@ public class Nuklear {
 
     @NativeType("void *")
     public static long nk_buffer_memory(@NativeType("struct nk_buffer *") NkBuffer buffer) {
-        return nnk_buffer_memory(buffer.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 359, __start, nnk_buffer_memory(buffer.address()));
     }
 
     // --- [ nk_buffer_memory_const ] ---
@@ -8226,7 +8934,8 @@ public class Nuklear {
 
     @NativeType("void const *")
     public static long nk_buffer_memory_const(@NativeType("struct nk_buffer const *") NkBuffer buffer) {
-        return nnk_buffer_memory_const(buffer.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 360, __start, nnk_buffer_memory_const(buffer.address()));
     }
 
     // --- [ nk_buffer_total ] ---
@@ -8235,7 +8944,8 @@ public class Nuklear {
 
     @NativeType("nk_size")
     public static long nk_buffer_total(@NativeType("struct nk_buffer *") NkBuffer buffer) {
-        return nnk_buffer_total(buffer.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 361, __start, nnk_buffer_total(buffer.address()));
     }
 
     // --- [ nk_str_init ] ---
@@ -8243,7 +8953,9 @@ public class Nuklear {
     public static native void nnk_str_init(long str, long allocator, long size);
 
     public static void nk_str_init(@NativeType("struct nk_str *") NkStr str, @NativeType("struct nk_allocator const *") NkAllocator allocator, @NativeType("nk_size") long size) {
+        long __start = FunctionProfiler.start();
         nnk_str_init(str.address(), allocator.address(), size);
+        FunctionProfiler.end(PROFILE_ID + 362, __start);
     }
 
     // --- [ nk_str_init_fixed ] ---
@@ -8251,7 +8963,9 @@ public class Nuklear {
     public static native void nnk_str_init_fixed(long str, long memory, long size);
 
     public static void nk_str_init_fixed(@NativeType("struct nk_str *") NkStr str, @NativeType("void *") ByteBuffer memory) {
+        long __start = FunctionProfiler.start();
         nnk_str_init_fixed(str.address(), memAddress(memory), memory.remaining());
+        FunctionProfiler.end(PROFILE_ID + 363, __start);
     }
 
     // --- [ nk_str_clear ] ---
@@ -8259,7 +8973,9 @@ public class Nuklear {
     public static native void nnk_str_clear(long str);
 
     public static void nk_str_clear(@NativeType("struct nk_str *") NkStr str) {
+        long __start = FunctionProfiler.start();
         nnk_str_clear(str.address());
+        FunctionProfiler.end(PROFILE_ID + 364, __start);
     }
 
     // --- [ nk_str_free ] ---
@@ -8267,7 +8983,9 @@ public class Nuklear {
     public static native void nnk_str_free(long str);
 
     public static void nk_str_free(@NativeType("struct nk_str *") NkStr str) {
+        long __start = FunctionProfiler.start();
         nnk_str_free(str.address());
+        FunctionProfiler.end(PROFILE_ID + 365, __start);
     }
 
     // --- [ nk_str_append_text_char ] ---
@@ -8275,7 +8993,8 @@ public class Nuklear {
     public static native int nnk_str_append_text_char(long s, long str, int len);
 
     public static int nk_str_append_text_char(@NativeType("struct nk_str *") NkStr s, @NativeType("char const *") ByteBuffer str) {
-        return nnk_str_append_text_char(s.address(), memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 366, __start, nnk_str_append_text_char(s.address(), memAddress(str), str.remaining()));
     }
 
     // --- [ nk_str_append_str_char ] ---
@@ -8286,7 +9005,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_str_append_str_char(s.address(), memAddress(str));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 367, __start, nnk_str_append_str_char(s.address(), memAddress(str)));
     }
 
     // --- [ nk_str_append_text_utf8 ] ---
@@ -8294,7 +9014,8 @@ public class Nuklear {
     public static native int nnk_str_append_text_utf8(long s, long str, int len);
 
     public static int nk_str_append_text_utf8(@NativeType("struct nk_str *") NkStr s, @NativeType("char const *") ByteBuffer str) {
-        return nnk_str_append_text_utf8(s.address(), memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 368, __start, nnk_str_append_text_utf8(s.address(), memAddress(str), str.remaining()));
     }
 
     // --- [ nk_str_append_str_utf8 ] ---
@@ -8305,7 +9026,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_str_append_str_utf8(s.address(), memAddress(str));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 369, __start, nnk_str_append_str_utf8(s.address(), memAddress(str)));
     }
 
     // --- [ nk_str_append_text_runes ] ---
@@ -8313,7 +9035,8 @@ public class Nuklear {
     public static native int nnk_str_append_text_runes(long s, long runes, int len);
 
     public static int nk_str_append_text_runes(@NativeType("struct nk_str *") NkStr s, @NativeType("nk_rune const *") IntBuffer runes) {
-        return nnk_str_append_text_runes(s.address(), memAddress(runes), runes.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 370, __start, nnk_str_append_text_runes(s.address(), memAddress(runes), runes.remaining()));
     }
 
     // --- [ nk_str_append_str_runes ] ---
@@ -8324,7 +9047,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT(runes);
         }
-        return nnk_str_append_str_runes(s.address(), memAddress(runes));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 371, __start, nnk_str_append_str_runes(s.address(), memAddress(runes)));
     }
 
     // --- [ nk_str_insert_at_char ] ---
@@ -8332,7 +9056,8 @@ public class Nuklear {
     public static native int nnk_str_insert_at_char(long s, int pos, long str, int len);
 
     public static int nk_str_insert_at_char(@NativeType("struct nk_str *") NkStr s, int pos, @NativeType("char const *") ByteBuffer str) {
-        return nnk_str_insert_at_char(s.address(), pos, memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 372, __start, nnk_str_insert_at_char(s.address(), pos, memAddress(str), str.remaining()));
     }
 
     // --- [ nk_str_insert_at_rune ] ---
@@ -8340,7 +9065,8 @@ public class Nuklear {
     public static native int nnk_str_insert_at_rune(long s, int pos, long str, int len);
 
     public static int nk_str_insert_at_rune(@NativeType("struct nk_str *") NkStr s, int pos, @NativeType("char const *") ByteBuffer str) {
-        return nnk_str_insert_at_rune(s.address(), pos, memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 373, __start, nnk_str_insert_at_rune(s.address(), pos, memAddress(str), str.remaining()));
     }
 
     // --- [ nk_str_insert_text_char ] ---
@@ -8348,7 +9074,8 @@ public class Nuklear {
     public static native int nnk_str_insert_text_char(long s, int pos, long str, int len);
 
     public static int nk_str_insert_text_char(@NativeType("struct nk_str *") NkStr s, int pos, @NativeType("char const *") ByteBuffer str) {
-        return nnk_str_insert_text_char(s.address(), pos, memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 374, __start, nnk_str_insert_text_char(s.address(), pos, memAddress(str), str.remaining()));
     }
 
     // --- [ nk_str_insert_str_char ] ---
@@ -8359,7 +9086,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_str_insert_str_char(s.address(), pos, memAddress(str));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 375, __start, nnk_str_insert_str_char(s.address(), pos, memAddress(str)));
     }
 
     // --- [ nk_str_insert_text_utf8 ] ---
@@ -8367,7 +9095,8 @@ public class Nuklear {
     public static native int nnk_str_insert_text_utf8(long s, int pos, long str, int len);
 
     public static int nk_str_insert_text_utf8(@NativeType("struct nk_str *") NkStr s, int pos, @NativeType("char const *") ByteBuffer str) {
-        return nnk_str_insert_text_utf8(s.address(), pos, memAddress(str), str.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 376, __start, nnk_str_insert_text_utf8(s.address(), pos, memAddress(str), str.remaining()));
     }
 
     // --- [ nk_str_insert_str_utf8 ] ---
@@ -8378,7 +9107,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT1(str);
         }
-        return nnk_str_insert_str_utf8(s.address(), pos, memAddress(str));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 377, __start, nnk_str_insert_str_utf8(s.address(), pos, memAddress(str)));
     }
 
     // --- [ nk_str_insert_text_runes ] ---
@@ -8386,7 +9116,8 @@ public class Nuklear {
     public static native int nnk_str_insert_text_runes(long s, int pos, long runes, int len);
 
     public static int nk_str_insert_text_runes(@NativeType("struct nk_str *") NkStr s, int pos, @NativeType("nk_rune const *") IntBuffer runes) {
-        return nnk_str_insert_text_runes(s.address(), pos, memAddress(runes), runes.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 378, __start, nnk_str_insert_text_runes(s.address(), pos, memAddress(runes), runes.remaining()));
     }
 
     // --- [ nk_str_insert_str_runes ] ---
@@ -8397,7 +9128,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT(runes);
         }
-        return nnk_str_insert_str_runes(s.address(), pos, memAddress(runes));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 379, __start, nnk_str_insert_str_runes(s.address(), pos, memAddress(runes)));
     }
 
     // --- [ nk_str_remove_chars ] ---
@@ -8405,7 +9137,9 @@ public class Nuklear {
     public static native void nnk_str_remove_chars(long s, int len);
 
     public static void nk_str_remove_chars(@NativeType("struct nk_str *") NkStr s, int len) {
+        long __start = FunctionProfiler.start();
         nnk_str_remove_chars(s.address(), len);
+        FunctionProfiler.end(PROFILE_ID + 380, __start);
     }
 
     // --- [ nk_str_remove_runes ] ---
@@ -8413,7 +9147,9 @@ public class Nuklear {
     public static native void nnk_str_remove_runes(long str, int len);
 
     public static void nk_str_remove_runes(@NativeType("struct nk_str *") NkStr str, int len) {
+        long __start = FunctionProfiler.start();
         nnk_str_remove_runes(str.address(), len);
+        FunctionProfiler.end(PROFILE_ID + 381, __start);
     }
 
     // --- [ nk_str_delete_chars ] ---
@@ -8421,7 +9157,9 @@ public class Nuklear {
     public static native void nnk_str_delete_chars(long s, int pos, int len);
 
     public static void nk_str_delete_chars(@NativeType("struct nk_str *") NkStr s, int pos, int len) {
+        long __start = FunctionProfiler.start();
         nnk_str_delete_chars(s.address(), pos, len);
+        FunctionProfiler.end(PROFILE_ID + 382, __start);
     }
 
     // --- [ nk_str_delete_runes ] ---
@@ -8429,7 +9167,9 @@ public class Nuklear {
     public static native void nnk_str_delete_runes(long s, int pos, int len);
 
     public static void nk_str_delete_runes(@NativeType("struct nk_str *") NkStr s, int pos, int len) {
+        long __start = FunctionProfiler.start();
         nnk_str_delete_runes(s.address(), pos, len);
+        FunctionProfiler.end(PROFILE_ID + 383, __start);
     }
 
     // --- [ nk_str_at_char ] ---
@@ -8439,7 +9179,8 @@ public class Nuklear {
     @Nullable
     @NativeType("char *")
     public static String nk_str_at_char(@NativeType("struct nk_str *") NkStr s, int pos) {
-        long __result = nnk_str_at_char(s.address(), pos);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 384, __start, nnk_str_at_char(s.address(), pos));
         return memUTF8Safe(__result);
     }
 
@@ -8456,7 +9197,8 @@ public class Nuklear {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer len = stack.callocInt(1);
         try {
-            long __result = nnk_str_at_rune(s.address(), pos, memAddress(unicode), memAddress(len));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 385, __start, nnk_str_at_rune(s.address(), pos, memAddress(unicode), memAddress(len)));
             return memByteBufferSafe(__result, len.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -8469,7 +9211,8 @@ public class Nuklear {
 
     @NativeType("nk_rune")
     public static int nk_str_rune_at(@NativeType("struct nk_str const *") NkStr s, int pos) {
-        return nnk_str_rune_at(s.address(), pos);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 386, __start, nnk_str_rune_at(s.address(), pos));
     }
 
     // --- [ nk_str_at_char_const ] ---
@@ -8479,7 +9222,8 @@ public class Nuklear {
     @Nullable
     @NativeType("char const *")
     public static String nk_str_at_char_const(@NativeType("struct nk_str const *") NkStr s, int pos) {
-        long __result = nnk_str_at_char_const(s.address(), pos);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 387, __start, nnk_str_at_char_const(s.address(), pos));
         return memUTF8Safe(__result);
     }
 
@@ -8496,7 +9240,8 @@ public class Nuklear {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer len = stack.callocInt(1);
         try {
-            long __result = nnk_str_at_const(s.address(), pos, memAddress(unicode), memAddress(len));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 388, __start, nnk_str_at_const(s.address(), pos, memAddress(unicode), memAddress(len)));
             return memByteBufferSafe(__result, len.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -8510,7 +9255,8 @@ public class Nuklear {
     @Nullable
     @NativeType("char *")
     public static String nk_str_get(@NativeType("struct nk_str *") NkStr s) {
-        long __result = nnk_str_get(s.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 389, __start, nnk_str_get(s.address()));
         return memUTF8Safe(__result);
     }
 
@@ -8521,7 +9267,8 @@ public class Nuklear {
     @Nullable
     @NativeType("char const *")
     public static String nk_str_get_const(@NativeType("struct nk_str const *") NkStr s) {
-        long __result = nnk_str_get_const(s.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 390, __start, nnk_str_get_const(s.address()));
         return memUTF8Safe(__result);
     }
 
@@ -8530,7 +9277,8 @@ public class Nuklear {
     public static native int nnk_str_len(long s);
 
     public static int nk_str_len(@NativeType("struct nk_str *") NkStr s) {
-        return nnk_str_len(s.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 391, __start, nnk_str_len(s.address()));
     }
 
     // --- [ nk_str_len_char ] ---
@@ -8538,7 +9286,8 @@ public class Nuklear {
     public static native int nnk_str_len_char(long s);
 
     public static int nk_str_len_char(@NativeType("struct nk_str *") NkStr s) {
-        return nnk_str_len_char(s.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 392, __start, nnk_str_len_char(s.address()));
     }
 
     // --- [ nk_filter_default ] ---
@@ -8547,7 +9296,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_default(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_default(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 393, __start, nnk_filter_default(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_filter_ascii ] ---
@@ -8556,7 +9306,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_ascii(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_ascii(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 394, __start, nnk_filter_ascii(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_filter_float ] ---
@@ -8565,7 +9316,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_float(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_float(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 395, __start, nnk_filter_float(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_filter_decimal ] ---
@@ -8574,7 +9326,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_decimal(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_decimal(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 396, __start, nnk_filter_decimal(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_filter_hex ] ---
@@ -8583,7 +9336,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_hex(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_hex(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 397, __start, nnk_filter_hex(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_filter_oct ] ---
@@ -8592,7 +9346,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_oct(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_oct(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 398, __start, nnk_filter_oct(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_filter_binary ] ---
@@ -8601,7 +9356,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_filter_binary(@NativeType("struct nk_text_edit const *") NkTextEdit edit, @NativeType("nk_rune") int unicode) {
-        return nnk_filter_binary(edit.address(), unicode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 399, __start, nnk_filter_binary(edit.address(), unicode)) != 0;
     }
 
     // --- [ nk_textedit_init ] ---
@@ -8609,7 +9365,9 @@ public class Nuklear {
     public static native void nnk_textedit_init(long box, long allocator, long size);
 
     public static void nk_textedit_init(@NativeType("struct nk_text_edit *") NkTextEdit box, @NativeType("struct nk_allocator *") NkAllocator allocator, @NativeType("nk_size") long size) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_init(box.address(), allocator.address(), size);
+        FunctionProfiler.end(PROFILE_ID + 400, __start);
     }
 
     // --- [ nk_textedit_init_fixed ] ---
@@ -8617,7 +9375,9 @@ public class Nuklear {
     public static native void nnk_textedit_init_fixed(long box, long memory, long size);
 
     public static void nk_textedit_init_fixed(@NativeType("struct nk_text_edit *") NkTextEdit box, @NativeType("void *") ByteBuffer memory) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_init_fixed(box.address(), memAddress(memory), memory.remaining());
+        FunctionProfiler.end(PROFILE_ID + 401, __start);
     }
 
     // --- [ nk_textedit_free ] ---
@@ -8625,7 +9385,9 @@ public class Nuklear {
     public static native void nnk_textedit_free(long box);
 
     public static void nk_textedit_free(@NativeType("struct nk_text_edit *") NkTextEdit box) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_free(box.address());
+        FunctionProfiler.end(PROFILE_ID + 402, __start);
     }
 
     // --- [ nk_textedit_text ] ---
@@ -8633,7 +9395,9 @@ public class Nuklear {
     public static native void nnk_textedit_text(long box, long text, int total_len);
 
     public static void nk_textedit_text(@NativeType("struct nk_text_edit *") NkTextEdit box, @NativeType("char const *") ByteBuffer text) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_text(box.address(), memAddress(text), text.remaining());
+        FunctionProfiler.end(PROFILE_ID + 403, __start);
     }
 
     public static void nk_textedit_text(@NativeType("struct nk_text_edit *") NkTextEdit box, @NativeType("char const *") CharSequence text) {
@@ -8641,7 +9405,9 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_textedit_text(box.address(), textEncoded, textEncodedLength);
+            FunctionProfiler.end(PROFILE_ID + 403, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8652,7 +9418,9 @@ public class Nuklear {
     public static native void nnk_textedit_delete(long box, int where, int len);
 
     public static void nk_textedit_delete(@NativeType("struct nk_text_edit *") NkTextEdit box, int where, int len) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_delete(box.address(), where, len);
+        FunctionProfiler.end(PROFILE_ID + 404, __start);
     }
 
     // --- [ nk_textedit_delete_selection ] ---
@@ -8660,7 +9428,9 @@ public class Nuklear {
     public static native void nnk_textedit_delete_selection(long box);
 
     public static void nk_textedit_delete_selection(@NativeType("struct nk_text_edit *") NkTextEdit box) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_delete_selection(box.address());
+        FunctionProfiler.end(PROFILE_ID + 405, __start);
     }
 
     // --- [ nk_textedit_select_all ] ---
@@ -8668,7 +9438,9 @@ public class Nuklear {
     public static native void nnk_textedit_select_all(long box);
 
     public static void nk_textedit_select_all(@NativeType("struct nk_text_edit *") NkTextEdit box) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_select_all(box.address());
+        FunctionProfiler.end(PROFILE_ID + 406, __start);
     }
 
     // --- [ nk_textedit_cut ] ---
@@ -8677,7 +9449,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_textedit_cut(@NativeType("struct nk_text_edit *") NkTextEdit box) {
-        return nnk_textedit_cut(box.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 407, __start, nnk_textedit_cut(box.address())) != 0;
     }
 
     // --- [ nk_textedit_paste ] ---
@@ -8686,7 +9459,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_textedit_paste(@NativeType("struct nk_text_edit *") NkTextEdit box, @NativeType("char const *") ByteBuffer ctext) {
-        return nnk_textedit_paste(box.address(), memAddress(ctext), ctext.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 408, __start, nnk_textedit_paste(box.address(), memAddress(ctext), ctext.remaining())) != 0;
     }
 
     @NativeType("int")
@@ -8695,7 +9469,8 @@ public class Nuklear {
         try {
             int ctextEncodedLength = stack.nUTF8(ctext, false);
             long ctextEncoded = stack.getPointerAddress();
-            return nnk_textedit_paste(box.address(), ctextEncoded, ctextEncodedLength) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 408, __start, nnk_textedit_paste(box.address(), ctextEncoded, ctextEncodedLength)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8706,7 +9481,9 @@ public class Nuklear {
     public static native void nnk_textedit_undo(long box);
 
     public static void nk_textedit_undo(@NativeType("struct nk_text_edit *") NkTextEdit box) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_undo(box.address());
+        FunctionProfiler.end(PROFILE_ID + 409, __start);
     }
 
     // --- [ nk_textedit_redo ] ---
@@ -8714,7 +9491,9 @@ public class Nuklear {
     public static native void nnk_textedit_redo(long box);
 
     public static void nk_textedit_redo(@NativeType("struct nk_text_edit *") NkTextEdit box) {
+        long __start = FunctionProfiler.start();
         nnk_textedit_redo(box.address());
+        FunctionProfiler.end(PROFILE_ID + 410, __start);
     }
 
     // --- [ nk_stroke_line ] ---
@@ -8722,7 +9501,9 @@ public class Nuklear {
     public static native void nnk_stroke_line(long b, float x0, float y0, float x1, float y1, float line_thickness, long color);
 
     public static void nk_stroke_line(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, float x0, float y0, float x1, float y1, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_line(b.address(), x0, y0, x1, y1, line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 411, __start);
     }
 
     // --- [ nk_stroke_curve ] ---
@@ -8730,7 +9511,9 @@ public class Nuklear {
     public static native void nnk_stroke_curve(long b, float ax, float ay, float ctrl0x, float ctrl0y, float ctrl1x, float ctrl1y, float bx, float by, float line_thickness, long color);
 
     public static void nk_stroke_curve(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, float ax, float ay, float ctrl0x, float ctrl0y, float ctrl1x, float ctrl1y, float bx, float by, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_curve(b.address(), ax, ay, ctrl0x, ctrl0y, ctrl1x, ctrl1y, bx, by, line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 412, __start);
     }
 
     // --- [ nk_stroke_rect ] ---
@@ -8738,7 +9521,9 @@ public class Nuklear {
     public static native void nnk_stroke_rect(long b, long rect, float rounding, float line_thickness, long color);
 
     public static void nk_stroke_rect(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, float rounding, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_rect(b.address(), rect.address(), rounding, line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 413, __start);
     }
 
     // --- [ nk_stroke_circle ] ---
@@ -8746,7 +9531,9 @@ public class Nuklear {
     public static native void nnk_stroke_circle(long b, long rect, float line_thickness, long color);
 
     public static void nk_stroke_circle(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_circle(b.address(), rect.address(), line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 414, __start);
     }
 
     // --- [ nk_stroke_arc ] ---
@@ -8754,7 +9541,9 @@ public class Nuklear {
     public static native void nnk_stroke_arc(long b, float cx, float cy, float radius, float a_min, float a_max, float line_thickness, long color);
 
     public static void nk_stroke_arc(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, float cx, float cy, float radius, float a_min, float a_max, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_arc(b.address(), cx, cy, radius, a_min, a_max, line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 415, __start);
     }
 
     // --- [ nk_stroke_triangle ] ---
@@ -8762,7 +9551,9 @@ public class Nuklear {
     public static native void nnk_stroke_triangle(long b, float x0, float y0, float x1, float y1, float x2, float y2, float line_thichness, long color);
 
     public static void nk_stroke_triangle(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, float x0, float y0, float x1, float y1, float x2, float y2, float line_thichness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_triangle(b.address(), x0, y0, x1, y1, x2, y2, line_thichness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 416, __start);
     }
 
     // --- [ nk_stroke_polyline ] ---
@@ -8770,7 +9561,9 @@ public class Nuklear {
     public static native void nnk_stroke_polyline(long b, long points, int point_count, float line_thickness, long col);
 
     public static void nk_stroke_polyline(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("float *") FloatBuffer points, float line_thickness, @NativeType("struct nk_color") NkColor col) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_polyline(b.address(), memAddress(points), points.remaining(), line_thickness, col.address());
+        FunctionProfiler.end(PROFILE_ID + 417, __start);
     }
 
     // --- [ nk_stroke_polygon ] ---
@@ -8778,7 +9571,9 @@ public class Nuklear {
     public static native void nnk_stroke_polygon(long b, long points, int point_count, float line_thickness, long color);
 
     public static void nk_stroke_polygon(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("float *") FloatBuffer points, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_polygon(b.address(), memAddress(points), points.remaining(), line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 418, __start);
     }
 
     // --- [ nk_fill_rect ] ---
@@ -8786,7 +9581,9 @@ public class Nuklear {
     public static native void nnk_fill_rect(long b, long rect, float rounding, long color);
 
     public static void nk_fill_rect(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, float rounding, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_fill_rect(b.address(), rect.address(), rounding, color.address());
+        FunctionProfiler.end(PROFILE_ID + 419, __start);
     }
 
     // --- [ nk_fill_rect_multi_color ] ---
@@ -8794,7 +9591,9 @@ public class Nuklear {
     public static native void nnk_fill_rect_multi_color(long b, long rect, long left, long top, long right, long bottom);
 
     public static void nk_fill_rect_multi_color(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_color") NkColor left, @NativeType("struct nk_color") NkColor top, @NativeType("struct nk_color") NkColor right, @NativeType("struct nk_color") NkColor bottom) {
+        long __start = FunctionProfiler.start();
         nnk_fill_rect_multi_color(b.address(), rect.address(), left.address(), top.address(), right.address(), bottom.address());
+        FunctionProfiler.end(PROFILE_ID + 420, __start);
     }
 
     // --- [ nk_fill_circle ] ---
@@ -8802,7 +9601,9 @@ public class Nuklear {
     public static native void nnk_fill_circle(long b, long rect, long color);
 
     public static void nk_fill_circle(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_fill_circle(b.address(), rect.address(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 421, __start);
     }
 
     // --- [ nk_fill_arc ] ---
@@ -8810,7 +9611,9 @@ public class Nuklear {
     public static native void nnk_fill_arc(long b, float cx, float cy, float radius, float a_min, float a_max, long color);
 
     public static void nk_fill_arc(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, float cx, float cy, float radius, float a_min, float a_max, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_fill_arc(b.address(), cx, cy, radius, a_min, a_max, color.address());
+        FunctionProfiler.end(PROFILE_ID + 422, __start);
     }
 
     // --- [ nk_fill_triangle ] ---
@@ -8818,7 +9621,9 @@ public class Nuklear {
     public static native void nnk_fill_triangle(long b, float x0, float y0, float x1, float y1, float x2, float y2, long color);
 
     public static void nk_fill_triangle(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, float x0, float y0, float x1, float y1, float x2, float y2, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_fill_triangle(b.address(), x0, y0, x1, y1, x2, y2, color.address());
+        FunctionProfiler.end(PROFILE_ID + 423, __start);
     }
 
     // --- [ nk_fill_polygon ] ---
@@ -8826,7 +9631,9 @@ public class Nuklear {
     public static native void nnk_fill_polygon(long b, long points, int point_count, long color);
 
     public static void nk_fill_polygon(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("float *") FloatBuffer points, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_fill_polygon(b.address(), memAddress(points), points.remaining(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 424, __start);
     }
 
     // --- [ nk_draw_image ] ---
@@ -8834,7 +9641,9 @@ public class Nuklear {
     public static native void nnk_draw_image(long b, long rect, long img, long color);
 
     public static void nk_draw_image(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_image const *") NkImage img, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_draw_image(b.address(), rect.address(), img.address(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 425, __start);
     }
 
     // --- [ nk_draw_text ] ---
@@ -8842,7 +9651,9 @@ public class Nuklear {
     public static native void nnk_draw_text(long b, long rect, long string, int length, long font, long bg, long fg);
 
     public static void nk_draw_text(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, @NativeType("char const *") ByteBuffer string, @NativeType("struct nk_user_font const *") NkUserFont font, @NativeType("struct nk_color") NkColor bg, @NativeType("struct nk_color") NkColor fg) {
+        long __start = FunctionProfiler.start();
         nnk_draw_text(b.address(), rect.address(), memAddress(string), string.remaining(), font.address(), bg.address(), fg.address());
+        FunctionProfiler.end(PROFILE_ID + 426, __start);
     }
 
     public static void nk_draw_text(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, @NativeType("char const *") CharSequence string, @NativeType("struct nk_user_font const *") NkUserFont font, @NativeType("struct nk_color") NkColor bg, @NativeType("struct nk_color") NkColor fg) {
@@ -8850,7 +9661,9 @@ public class Nuklear {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_draw_text(b.address(), rect.address(), stringEncoded, stringEncodedLength, font.address(), bg.address(), fg.address());
+            FunctionProfiler.end(PROFILE_ID + 426, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8861,7 +9674,9 @@ public class Nuklear {
     public static native void nnk_push_scissor(long b, long rect);
 
     public static void nk_push_scissor(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect) {
+        long __start = FunctionProfiler.start();
         nnk_push_scissor(b.address(), rect.address());
+        FunctionProfiler.end(PROFILE_ID + 427, __start);
     }
 
     // --- [ nk_push_custom ] ---
@@ -8869,7 +9684,9 @@ public class Nuklear {
     public static native void nnk_push_custom(long b, long rect, long callback, long usr);
 
     public static void nk_push_custom(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("struct nk_rect") NkRect rect, @NativeType("nk_command_custom_callback") NkCommandCustomCallbackI callback, @NativeType("nk_handle") NkHandle usr) {
+        long __start = FunctionProfiler.start();
         nnk_push_custom(b.address(), rect.address(), callback.address(), usr.address());
+        FunctionProfiler.end(PROFILE_ID + 428, __start);
     }
 
     // --- [ nk__next ] ---
@@ -8885,7 +9702,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_command const *")
     public static NkCommand nk__next(@NativeType("struct nk_context *") NkContext ctx, @NativeType("struct nk_command const *") NkCommand cmd) {
-        long __result = nnk__next(ctx.address(), cmd.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 429, __start, nnk__next(ctx.address(), cmd.address()));
         return NkCommand.createSafe(__result);
     }
 
@@ -8902,7 +9720,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_command const *")
     public static NkCommand nk__begin(@NativeType("struct nk_context *") NkContext ctx) {
-        long __result = nnk__begin(ctx.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 430, __start, nnk__begin(ctx.address()));
         return NkCommand.createSafe(__result);
     }
 
@@ -8914,7 +9733,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_has_mouse_click(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id) {
-        return nnk_input_has_mouse_click(i.address(), id) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 431, __start, nnk_input_has_mouse_click(i.address(), id)) != 0;
     }
 
     // --- [ nk_input_has_mouse_click_in_rect ] ---
@@ -8925,7 +9745,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_has_mouse_click_in_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id, @NativeType("struct nk_rect") NkRect rect) {
-        return nnk_input_has_mouse_click_in_rect(i.address(), id, rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 432, __start, nnk_input_has_mouse_click_in_rect(i.address(), id, rect.address())) != 0;
     }
 
     // --- [ nk_input_has_mouse_click_down_in_rect ] ---
@@ -8936,7 +9757,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_has_mouse_click_down_in_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id, @NativeType("struct nk_rect") NkRect rect, int down) {
-        return nnk_input_has_mouse_click_down_in_rect(i.address(), id, rect.address(), down) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 433, __start, nnk_input_has_mouse_click_down_in_rect(i.address(), id, rect.address(), down)) != 0;
     }
 
     // --- [ nk_input_is_mouse_click_in_rect ] ---
@@ -8947,7 +9769,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_mouse_click_in_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id, @NativeType("struct nk_rect") NkRect rect) {
-        return nnk_input_is_mouse_click_in_rect(i.address(), id, rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 434, __start, nnk_input_is_mouse_click_in_rect(i.address(), id, rect.address())) != 0;
     }
 
     // --- [ nk_input_is_mouse_click_down_in_rect ] ---
@@ -8958,7 +9781,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_mouse_click_down_in_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id, @NativeType("struct nk_rect") NkRect b, int down) {
-        return nnk_input_is_mouse_click_down_in_rect(i.address(), id, b.address(), down) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 435, __start, nnk_input_is_mouse_click_down_in_rect(i.address(), id, b.address(), down)) != 0;
     }
 
     // --- [ nk_input_any_mouse_click_in_rect ] ---
@@ -8967,7 +9791,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_input_any_mouse_click_in_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("struct nk_rect") NkRect rect) {
-        return nnk_input_any_mouse_click_in_rect(i.address(), rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 436, __start, nnk_input_any_mouse_click_in_rect(i.address(), rect.address())) != 0;
     }
 
     // --- [ nk_input_is_mouse_prev_hovering_rect ] ---
@@ -8976,7 +9801,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_input_is_mouse_prev_hovering_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("struct nk_rect") NkRect rect) {
-        return nnk_input_is_mouse_prev_hovering_rect(i.address(), rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 437, __start, nnk_input_is_mouse_prev_hovering_rect(i.address(), rect.address())) != 0;
     }
 
     // --- [ nk_input_is_mouse_hovering_rect ] ---
@@ -8985,7 +9811,8 @@ public class Nuklear {
 
     @NativeType("int")
     public static boolean nk_input_is_mouse_hovering_rect(@NativeType("struct nk_input const *") NkInput i, @NativeType("struct nk_rect") NkRect rect) {
-        return nnk_input_is_mouse_hovering_rect(i.address(), rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 438, __start, nnk_input_is_mouse_hovering_rect(i.address(), rect.address())) != 0;
     }
 
     // --- [ nk_input_mouse_clicked ] ---
@@ -8996,7 +9823,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_mouse_clicked(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id, @NativeType("struct nk_rect") NkRect rect) {
-        return nnk_input_mouse_clicked(i.address(), id, rect.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 439, __start, nnk_input_mouse_clicked(i.address(), id, rect.address())) != 0;
     }
 
     // --- [ nk_input_is_mouse_down ] ---
@@ -9007,7 +9835,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_mouse_down(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id) {
-        return nnk_input_is_mouse_down(i.address(), id) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 440, __start, nnk_input_is_mouse_down(i.address(), id)) != 0;
     }
 
     // --- [ nk_input_is_mouse_pressed ] ---
@@ -9018,7 +9847,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_mouse_pressed(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id) {
-        return nnk_input_is_mouse_pressed(i.address(), id) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 441, __start, nnk_input_is_mouse_pressed(i.address(), id)) != 0;
     }
 
     // --- [ nk_input_is_mouse_released ] ---
@@ -9029,7 +9859,8 @@ public class Nuklear {
     /** @param id one of:<br><table><tr><td>{@link #NK_BUTTON_LEFT BUTTON_LEFT}</td><td>{@link #NK_BUTTON_MIDDLE BUTTON_MIDDLE}</td><td>{@link #NK_BUTTON_RIGHT BUTTON_RIGHT}</td><td>{@link #NK_BUTTON_DOUBLE BUTTON_DOUBLE}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_mouse_released(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_buttons") int id) {
-        return nnk_input_is_mouse_released(i.address(), id) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 442, __start, nnk_input_is_mouse_released(i.address(), id)) != 0;
     }
 
     // --- [ nk_input_is_key_pressed ] ---
@@ -9040,7 +9871,8 @@ public class Nuklear {
     /** @param key one of:<br><table><tr><td>{@link #NK_KEY_NONE KEY_NONE}</td><td>{@link #NK_KEY_SHIFT KEY_SHIFT}</td><td>{@link #NK_KEY_CTRL KEY_CTRL}</td><td>{@link #NK_KEY_DEL KEY_DEL}</td><td>{@link #NK_KEY_ENTER KEY_ENTER}</td><td>{@link #NK_KEY_TAB KEY_TAB}</td></tr><tr><td>{@link #NK_KEY_BACKSPACE KEY_BACKSPACE}</td><td>{@link #NK_KEY_COPY KEY_COPY}</td><td>{@link #NK_KEY_CUT KEY_CUT}</td><td>{@link #NK_KEY_PASTE KEY_PASTE}</td><td>{@link #NK_KEY_UP KEY_UP}</td><td>{@link #NK_KEY_DOWN KEY_DOWN}</td></tr><tr><td>{@link #NK_KEY_LEFT KEY_LEFT}</td><td>{@link #NK_KEY_RIGHT KEY_RIGHT}</td><td>{@link #NK_KEY_TEXT_INSERT_MODE KEY_TEXT_INSERT_MODE}</td><td>{@link #NK_KEY_TEXT_REPLACE_MODE KEY_TEXT_REPLACE_MODE}</td><td>{@link #NK_KEY_TEXT_RESET_MODE KEY_TEXT_RESET_MODE}</td><td>{@link #NK_KEY_TEXT_LINE_START KEY_TEXT_LINE_START}</td></tr><tr><td>{@link #NK_KEY_TEXT_LINE_END KEY_TEXT_LINE_END}</td><td>{@link #NK_KEY_TEXT_START KEY_TEXT_START}</td><td>{@link #NK_KEY_TEXT_END KEY_TEXT_END}</td><td>{@link #NK_KEY_TEXT_UNDO KEY_TEXT_UNDO}</td><td>{@link #NK_KEY_TEXT_REDO KEY_TEXT_REDO}</td><td>{@link #NK_KEY_TEXT_SELECT_ALL KEY_TEXT_SELECT_ALL}</td></tr><tr><td>{@link #NK_KEY_TEXT_WORD_LEFT KEY_TEXT_WORD_LEFT}</td><td>{@link #NK_KEY_TEXT_WORD_RIGHT KEY_TEXT_WORD_RIGHT}</td><td>{@link #NK_KEY_SCROLL_START KEY_SCROLL_START}</td><td>{@link #NK_KEY_SCROLL_END KEY_SCROLL_END}</td><td>{@link #NK_KEY_SCROLL_DOWN KEY_SCROLL_DOWN}</td><td>{@link #NK_KEY_SCROLL_UP KEY_SCROLL_UP}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_key_pressed(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_keys") int key) {
-        return nnk_input_is_key_pressed(i.address(), key) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 443, __start, nnk_input_is_key_pressed(i.address(), key)) != 0;
     }
 
     // --- [ nk_input_is_key_released ] ---
@@ -9051,7 +9883,8 @@ public class Nuklear {
     /** @param key one of:<br><table><tr><td>{@link #NK_KEY_NONE KEY_NONE}</td><td>{@link #NK_KEY_SHIFT KEY_SHIFT}</td><td>{@link #NK_KEY_CTRL KEY_CTRL}</td><td>{@link #NK_KEY_DEL KEY_DEL}</td><td>{@link #NK_KEY_ENTER KEY_ENTER}</td><td>{@link #NK_KEY_TAB KEY_TAB}</td></tr><tr><td>{@link #NK_KEY_BACKSPACE KEY_BACKSPACE}</td><td>{@link #NK_KEY_COPY KEY_COPY}</td><td>{@link #NK_KEY_CUT KEY_CUT}</td><td>{@link #NK_KEY_PASTE KEY_PASTE}</td><td>{@link #NK_KEY_UP KEY_UP}</td><td>{@link #NK_KEY_DOWN KEY_DOWN}</td></tr><tr><td>{@link #NK_KEY_LEFT KEY_LEFT}</td><td>{@link #NK_KEY_RIGHT KEY_RIGHT}</td><td>{@link #NK_KEY_TEXT_INSERT_MODE KEY_TEXT_INSERT_MODE}</td><td>{@link #NK_KEY_TEXT_REPLACE_MODE KEY_TEXT_REPLACE_MODE}</td><td>{@link #NK_KEY_TEXT_RESET_MODE KEY_TEXT_RESET_MODE}</td><td>{@link #NK_KEY_TEXT_LINE_START KEY_TEXT_LINE_START}</td></tr><tr><td>{@link #NK_KEY_TEXT_LINE_END KEY_TEXT_LINE_END}</td><td>{@link #NK_KEY_TEXT_START KEY_TEXT_START}</td><td>{@link #NK_KEY_TEXT_END KEY_TEXT_END}</td><td>{@link #NK_KEY_TEXT_UNDO KEY_TEXT_UNDO}</td><td>{@link #NK_KEY_TEXT_REDO KEY_TEXT_REDO}</td><td>{@link #NK_KEY_TEXT_SELECT_ALL KEY_TEXT_SELECT_ALL}</td></tr><tr><td>{@link #NK_KEY_TEXT_WORD_LEFT KEY_TEXT_WORD_LEFT}</td><td>{@link #NK_KEY_TEXT_WORD_RIGHT KEY_TEXT_WORD_RIGHT}</td><td>{@link #NK_KEY_SCROLL_START KEY_SCROLL_START}</td><td>{@link #NK_KEY_SCROLL_END KEY_SCROLL_END}</td><td>{@link #NK_KEY_SCROLL_DOWN KEY_SCROLL_DOWN}</td><td>{@link #NK_KEY_SCROLL_UP KEY_SCROLL_UP}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_key_released(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_keys") int key) {
-        return nnk_input_is_key_released(i.address(), key) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 444, __start, nnk_input_is_key_released(i.address(), key)) != 0;
     }
 
     // --- [ nk_input_is_key_down ] ---
@@ -9062,7 +9895,8 @@ public class Nuklear {
     /** @param key one of:<br><table><tr><td>{@link #NK_KEY_NONE KEY_NONE}</td><td>{@link #NK_KEY_SHIFT KEY_SHIFT}</td><td>{@link #NK_KEY_CTRL KEY_CTRL}</td><td>{@link #NK_KEY_DEL KEY_DEL}</td><td>{@link #NK_KEY_ENTER KEY_ENTER}</td><td>{@link #NK_KEY_TAB KEY_TAB}</td></tr><tr><td>{@link #NK_KEY_BACKSPACE KEY_BACKSPACE}</td><td>{@link #NK_KEY_COPY KEY_COPY}</td><td>{@link #NK_KEY_CUT KEY_CUT}</td><td>{@link #NK_KEY_PASTE KEY_PASTE}</td><td>{@link #NK_KEY_UP KEY_UP}</td><td>{@link #NK_KEY_DOWN KEY_DOWN}</td></tr><tr><td>{@link #NK_KEY_LEFT KEY_LEFT}</td><td>{@link #NK_KEY_RIGHT KEY_RIGHT}</td><td>{@link #NK_KEY_TEXT_INSERT_MODE KEY_TEXT_INSERT_MODE}</td><td>{@link #NK_KEY_TEXT_REPLACE_MODE KEY_TEXT_REPLACE_MODE}</td><td>{@link #NK_KEY_TEXT_RESET_MODE KEY_TEXT_RESET_MODE}</td><td>{@link #NK_KEY_TEXT_LINE_START KEY_TEXT_LINE_START}</td></tr><tr><td>{@link #NK_KEY_TEXT_LINE_END KEY_TEXT_LINE_END}</td><td>{@link #NK_KEY_TEXT_START KEY_TEXT_START}</td><td>{@link #NK_KEY_TEXT_END KEY_TEXT_END}</td><td>{@link #NK_KEY_TEXT_UNDO KEY_TEXT_UNDO}</td><td>{@link #NK_KEY_TEXT_REDO KEY_TEXT_REDO}</td><td>{@link #NK_KEY_TEXT_SELECT_ALL KEY_TEXT_SELECT_ALL}</td></tr><tr><td>{@link #NK_KEY_TEXT_WORD_LEFT KEY_TEXT_WORD_LEFT}</td><td>{@link #NK_KEY_TEXT_WORD_RIGHT KEY_TEXT_WORD_RIGHT}</td><td>{@link #NK_KEY_SCROLL_START KEY_SCROLL_START}</td><td>{@link #NK_KEY_SCROLL_END KEY_SCROLL_END}</td><td>{@link #NK_KEY_SCROLL_DOWN KEY_SCROLL_DOWN}</td><td>{@link #NK_KEY_SCROLL_UP KEY_SCROLL_UP}</td></tr></table> */
     @NativeType("int")
     public static boolean nk_input_is_key_down(@NativeType("struct nk_input const *") NkInput i, @NativeType("enum nk_keys") int key) {
-        return nnk_input_is_key_down(i.address(), key) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 445, __start, nnk_input_is_key_down(i.address(), key)) != 0;
     }
 
     // --- [ nk_draw_list_init ] ---
@@ -9070,7 +9904,9 @@ public class Nuklear {
     public static native void nnk_draw_list_init(long list);
 
     public static void nk_draw_list_init(@NativeType("struct nk_draw_list *") NkDrawList list) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_init(list.address());
+        FunctionProfiler.end(PROFILE_ID + 446, __start);
     }
 
     // --- [ nk_draw_list_setup ] ---
@@ -9081,7 +9917,9 @@ public class Nuklear {
         if (CHECKS) {
             NkConvertConfig.validate(config.address());
         }
+        long __start = FunctionProfiler.start();
         nnk_draw_list_setup(canvas.address(), config.address(), cmds.address(), vertices.address(), elements.address(), line_aa, shape_aa);
+        FunctionProfiler.end(PROFILE_ID + 447, __start);
     }
 
     // --- [ nk__draw_list_begin ] ---
@@ -9091,7 +9929,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_draw_command const *")
     public static NkDrawCommand nk__draw_list_begin(@NativeType("struct nk_draw_list const *") NkDrawList list, @NativeType("struct nk_buffer const *") NkBuffer buffer) {
-        long __result = nnk__draw_list_begin(list.address(), buffer.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 448, __start, nnk__draw_list_begin(list.address(), buffer.address()));
         return NkDrawCommand.createSafe(__result);
     }
 
@@ -9102,7 +9941,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_draw_command const *")
     public static NkDrawCommand nk__draw_list_next(@NativeType("struct nk_draw_command const *") NkDrawCommand cmd, @NativeType("struct nk_buffer const *") NkBuffer buffer, @NativeType("struct nk_draw_list const *") NkDrawList list) {
-        long __result = nnk__draw_list_next(cmd.address(), buffer.address(), list.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 449, __start, nnk__draw_list_next(cmd.address(), buffer.address(), list.address()));
         return NkDrawCommand.createSafe(__result);
     }
 
@@ -9119,7 +9959,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_draw_command const *")
     public static NkDrawCommand nk__draw_begin(@NativeType("struct nk_context const *") NkContext ctx, @NativeType("struct nk_buffer const *") NkBuffer buffer) {
-        long __result = nnk__draw_begin(ctx.address(), buffer.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 450, __start, nnk__draw_begin(ctx.address(), buffer.address()));
         return NkDrawCommand.createSafe(__result);
     }
 
@@ -9136,7 +9977,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_draw_command const *")
     public static NkDrawCommand nk__draw_end(@NativeType("struct nk_context const *") NkContext ctx, @NativeType("struct nk_buffer const *") NkBuffer buffer) {
-        long __result = nnk__draw_end(ctx.address(), buffer.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 451, __start, nnk__draw_end(ctx.address(), buffer.address()));
         return NkDrawCommand.createSafe(__result);
     }
 
@@ -9153,7 +9995,8 @@ public class Nuklear {
     @Nullable
     @NativeType("struct nk_draw_command const *")
     public static NkDrawCommand nk__draw_next(@NativeType("struct nk_draw_command const *") NkDrawCommand cmd, @NativeType("struct nk_buffer const *") NkBuffer buffer, @NativeType("struct nk_context const *") NkContext ctx) {
-        long __result = nnk__draw_next(cmd.address(), buffer.address(), ctx.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 452, __start, nnk__draw_next(cmd.address(), buffer.address(), ctx.address()));
         return NkDrawCommand.createSafe(__result);
     }
 
@@ -9162,7 +10005,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_clear(long list);
 
     public static void nk_draw_list_path_clear(@NativeType("struct nk_draw_list *") NkDrawList list) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_clear(list.address());
+        FunctionProfiler.end(PROFILE_ID + 453, __start);
     }
 
     // --- [ nk_draw_list_path_line_to ] ---
@@ -9170,7 +10015,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_line_to(long list, long pos);
 
     public static void nk_draw_list_path_line_to(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 pos) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_line_to(list.address(), pos.address());
+        FunctionProfiler.end(PROFILE_ID + 454, __start);
     }
 
     // --- [ nk_draw_list_path_arc_to_fast ] ---
@@ -9178,7 +10025,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_arc_to_fast(long list, long center, float radius, int a_min, int a_max);
 
     public static void nk_draw_list_path_arc_to_fast(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 center, float radius, int a_min, int a_max) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_arc_to_fast(list.address(), center.address(), radius, a_min, a_max);
+        FunctionProfiler.end(PROFILE_ID + 455, __start);
     }
 
     // --- [ nk_draw_list_path_arc_to ] ---
@@ -9186,7 +10035,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_arc_to(long list, long center, float radius, float a_min, float a_max, int segments);
 
     public static void nk_draw_list_path_arc_to(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 center, float radius, float a_min, float a_max, @NativeType("unsigned int") int segments) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_arc_to(list.address(), center.address(), radius, a_min, a_max, segments);
+        FunctionProfiler.end(PROFILE_ID + 456, __start);
     }
 
     // --- [ nk_draw_list_path_rect_to ] ---
@@ -9194,7 +10045,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_rect_to(long list, long a, long b, float rounding);
 
     public static void nk_draw_list_path_rect_to(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 a, @NativeType("struct nk_vec2") NkVec2 b, float rounding) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_rect_to(list.address(), a.address(), b.address(), rounding);
+        FunctionProfiler.end(PROFILE_ID + 457, __start);
     }
 
     // --- [ nk_draw_list_path_curve_to ] ---
@@ -9202,7 +10055,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_curve_to(long list, long p2, long p3, long p4, int num_segments);
 
     public static void nk_draw_list_path_curve_to(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 p2, @NativeType("struct nk_vec2") NkVec2 p3, @NativeType("struct nk_vec2") NkVec2 p4, @NativeType("unsigned int") int num_segments) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_curve_to(list.address(), p2.address(), p3.address(), p4.address(), num_segments);
+        FunctionProfiler.end(PROFILE_ID + 458, __start);
     }
 
     // --- [ nk_draw_list_path_fill ] ---
@@ -9210,7 +10065,9 @@ public class Nuklear {
     public static native void nnk_draw_list_path_fill(long list, long color);
 
     public static void nk_draw_list_path_fill(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_fill(list.address(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 459, __start);
     }
 
     // --- [ nk_draw_list_path_stroke ] ---
@@ -9220,7 +10077,9 @@ public class Nuklear {
 
     /** @param closed one of:<br><table><tr><td>{@link #NK_STROKE_OPEN STROKE_OPEN}</td><td>{@link #NK_STROKE_CLOSED STROKE_CLOSED}</td></tr></table> */
     public static void nk_draw_list_path_stroke(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_color") NkColor color, @NativeType("enum nk_draw_list_stroke") int closed, float thickness) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_path_stroke(list.address(), color.address(), closed, thickness);
+        FunctionProfiler.end(PROFILE_ID + 460, __start);
     }
 
     // --- [ nk_draw_list_stroke_line ] ---
@@ -9228,7 +10087,9 @@ public class Nuklear {
     public static native void nnk_draw_list_stroke_line(long list, long a, long b, long color, float thickness);
 
     public static void nk_draw_list_stroke_line(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 a, @NativeType("struct nk_vec2") NkVec2 b, @NativeType("struct nk_color") NkColor color, float thickness) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_stroke_line(list.address(), a.address(), b.address(), color.address(), thickness);
+        FunctionProfiler.end(PROFILE_ID + 461, __start);
     }
 
     // --- [ nk_draw_list_stroke_rect ] ---
@@ -9236,7 +10097,9 @@ public class Nuklear {
     public static native void nnk_draw_list_stroke_rect(long list, long rect, long color, float rounding, float thickness);
 
     public static void nk_draw_list_stroke_rect(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_color") NkColor color, float rounding, float thickness) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_stroke_rect(list.address(), rect.address(), color.address(), rounding, thickness);
+        FunctionProfiler.end(PROFILE_ID + 462, __start);
     }
 
     // --- [ nk_draw_list_stroke_triangle ] ---
@@ -9244,7 +10107,9 @@ public class Nuklear {
     public static native void nnk_draw_list_stroke_triangle(long list, long a, long b, long c, long color, float thickness);
 
     public static void nk_draw_list_stroke_triangle(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 a, @NativeType("struct nk_vec2") NkVec2 b, @NativeType("struct nk_vec2") NkVec2 c, @NativeType("struct nk_color") NkColor color, float thickness) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_stroke_triangle(list.address(), a.address(), b.address(), c.address(), color.address(), thickness);
+        FunctionProfiler.end(PROFILE_ID + 463, __start);
     }
 
     // --- [ nk_draw_list_stroke_circle ] ---
@@ -9252,7 +10117,9 @@ public class Nuklear {
     public static native void nnk_draw_list_stroke_circle(long list, long center, float radius, long color, int segs, float thickness);
 
     public static void nk_draw_list_stroke_circle(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 center, float radius, @NativeType("struct nk_color") NkColor color, @NativeType("unsigned int") int segs, float thickness) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_stroke_circle(list.address(), center.address(), radius, color.address(), segs, thickness);
+        FunctionProfiler.end(PROFILE_ID + 464, __start);
     }
 
     // --- [ nk_draw_list_stroke_curve ] ---
@@ -9260,7 +10127,9 @@ public class Nuklear {
     public static native void nnk_draw_list_stroke_curve(long list, long p0, long cp0, long cp1, long p1, long color, int segments, float thickness);
 
     public static void nk_draw_list_stroke_curve(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 p0, @NativeType("struct nk_vec2") NkVec2 cp0, @NativeType("struct nk_vec2") NkVec2 cp1, @NativeType("struct nk_vec2") NkVec2 p1, @NativeType("struct nk_color") NkColor color, @NativeType("unsigned int") int segments, float thickness) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_stroke_curve(list.address(), p0.address(), cp0.address(), cp1.address(), p1.address(), color.address(), segments, thickness);
+        FunctionProfiler.end(PROFILE_ID + 465, __start);
     }
 
     // --- [ nk_draw_list_stroke_poly_line ] ---
@@ -9273,7 +10142,9 @@ public class Nuklear {
      * @param aliasing one of:<br><table><tr><td>{@link #NK_ANTI_ALIASING_OFF ANTI_ALIASING_OFF}</td><td>{@link #NK_ANTI_ALIASING_ON ANTI_ALIASING_ON}</td></tr></table>
      */
     public static void nk_draw_list_stroke_poly_line(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2 const *") NkVec2 pnts, @NativeType("unsigned int") int cnt, @NativeType("struct nk_color") NkColor color, @NativeType("enum nk_draw_list_stroke") int closed, float thickness, @NativeType("enum nk_anti_aliasing") int aliasing) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_stroke_poly_line(list.address(), pnts.address(), cnt, color.address(), closed, thickness, aliasing);
+        FunctionProfiler.end(PROFILE_ID + 466, __start);
     }
 
     // --- [ nk_draw_list_fill_rect ] ---
@@ -9281,7 +10152,9 @@ public class Nuklear {
     public static native void nnk_draw_list_fill_rect(long list, long rect, long color, float rounding);
 
     public static void nk_draw_list_fill_rect(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_color") NkColor color, float rounding) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_fill_rect(list.address(), rect.address(), color.address(), rounding);
+        FunctionProfiler.end(PROFILE_ID + 467, __start);
     }
 
     // --- [ nk_draw_list_fill_rect_multi_color ] ---
@@ -9289,7 +10162,9 @@ public class Nuklear {
     public static native void nnk_draw_list_fill_rect_multi_color(long list, long rect, long left, long top, long right, long bottom);
 
     public static void nk_draw_list_fill_rect_multi_color(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_color") NkColor left, @NativeType("struct nk_color") NkColor top, @NativeType("struct nk_color") NkColor right, @NativeType("struct nk_color") NkColor bottom) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_fill_rect_multi_color(list.address(), rect.address(), left.address(), top.address(), right.address(), bottom.address());
+        FunctionProfiler.end(PROFILE_ID + 468, __start);
     }
 
     // --- [ nk_draw_list_fill_triangle ] ---
@@ -9297,7 +10172,9 @@ public class Nuklear {
     public static native void nnk_draw_list_fill_triangle(long list, long a, long b, long c, long color);
 
     public static void nk_draw_list_fill_triangle(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 a, @NativeType("struct nk_vec2") NkVec2 b, @NativeType("struct nk_vec2") NkVec2 c, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_fill_triangle(list.address(), a.address(), b.address(), c.address(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 469, __start);
     }
 
     // --- [ nk_draw_list_fill_circle ] ---
@@ -9305,7 +10182,9 @@ public class Nuklear {
     public static native void nnk_draw_list_fill_circle(long list, long center, float radius, long col, int segs);
 
     public static void nk_draw_list_fill_circle(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2") NkVec2 center, float radius, @NativeType("struct nk_color") NkColor col, @NativeType("unsigned int") int segs) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_fill_circle(list.address(), center.address(), radius, col.address(), segs);
+        FunctionProfiler.end(PROFILE_ID + 470, __start);
     }
 
     // --- [ nk_draw_list_fill_poly_convex ] ---
@@ -9315,7 +10194,9 @@ public class Nuklear {
 
     /** @param aliasing one of:<br><table><tr><td>{@link #NK_ANTI_ALIASING_OFF ANTI_ALIASING_OFF}</td><td>{@link #NK_ANTI_ALIASING_ON ANTI_ALIASING_ON}</td></tr></table> */
     public static void nk_draw_list_fill_poly_convex(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_vec2 const *") NkVec2.Buffer points, @NativeType("struct nk_color") NkColor color, @NativeType("enum nk_anti_aliasing") int aliasing) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_fill_poly_convex(list.address(), points.address(), points.remaining(), color.address(), aliasing);
+        FunctionProfiler.end(PROFILE_ID + 471, __start);
     }
 
     // --- [ nk_draw_list_add_image ] ---
@@ -9323,7 +10204,9 @@ public class Nuklear {
     public static native void nnk_draw_list_add_image(long list, long texture, long rect, long color);
 
     public static void nk_draw_list_add_image(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_image") NkImage texture, @NativeType("struct nk_rect") NkRect rect, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_add_image(list.address(), texture.address(), rect.address(), color.address());
+        FunctionProfiler.end(PROFILE_ID + 472, __start);
     }
 
     // --- [ nk_draw_list_add_text ] ---
@@ -9331,7 +10214,9 @@ public class Nuklear {
     public static native void nnk_draw_list_add_text(long list, long font, long rect, long text, int len, float font_height, long color);
 
     public static void nk_draw_list_add_text(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_user_font const *") NkUserFont font, @NativeType("struct nk_rect") NkRect rect, @NativeType("char const *") ByteBuffer text, float font_height, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_add_text(list.address(), font.address(), rect.address(), memAddress(text), text.remaining(), font_height, color.address());
+        FunctionProfiler.end(PROFILE_ID + 473, __start);
     }
 
     public static void nk_draw_list_add_text(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("struct nk_user_font const *") NkUserFont font, @NativeType("struct nk_rect") NkRect rect, @NativeType("char const *") CharSequence text, float font_height, @NativeType("struct nk_color") NkColor color) {
@@ -9339,7 +10224,9 @@ public class Nuklear {
         try {
             int textEncodedLength = stack.nUTF8(text, false);
             long textEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_draw_list_add_text(list.address(), font.address(), rect.address(), textEncoded, textEncodedLength, font_height, color.address());
+            FunctionProfiler.end(PROFILE_ID + 473, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9350,7 +10237,9 @@ public class Nuklear {
     public static native void nnk_draw_list_push_userdata(long list, long userdata);
 
     public static void nk_draw_list_push_userdata(@NativeType("struct nk_draw_list *") NkDrawList list, @NativeType("nk_handle") NkHandle userdata) {
+        long __start = FunctionProfiler.start();
         nnk_draw_list_push_userdata(list.address(), userdata.address());
+        FunctionProfiler.end(PROFILE_ID + 474, __start);
     }
 
     // --- [ nk_style_item_image ] ---
@@ -9359,7 +10248,9 @@ public class Nuklear {
 
     @NativeType("struct nk_style_item")
     public static NkStyleItem nk_style_item_image(@NativeType("struct nk_image") NkImage img, @NativeType("struct nk_style_item") NkStyleItem __result) {
+        long __start = FunctionProfiler.start();
         nnk_style_item_image(img.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 475, __start);
         return __result;
     }
 
@@ -9369,7 +10260,9 @@ public class Nuklear {
 
     @NativeType("struct nk_style_item")
     public static NkStyleItem nk_style_item_color(@NativeType("struct nk_color") NkColor color, @NativeType("struct nk_style_item") NkStyleItem __result) {
+        long __start = FunctionProfiler.start();
         nnk_style_item_color(color.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 476, __start);
         return __result;
     }
 
@@ -9379,7 +10272,9 @@ public class Nuklear {
 
     @NativeType("struct nk_style_item")
     public static NkStyleItem nk_style_item_hide(@NativeType("struct nk_style_item") NkStyleItem __result) {
+        long __start = FunctionProfiler.start();
         nnk_style_item_hide(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 477, __start);
         return __result;
     }
 
@@ -9392,7 +10287,9 @@ public class Nuklear {
             checkSafe(offset_x, 1);
             checkSafe(offset_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_window_get_scroll(ctx.address(), offset_x, offset_y);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #nnk_layout_row} */
@@ -9400,7 +10297,9 @@ public class Nuklear {
 
     /** Array version of: {@link #nk_layout_row layout_row} */
     public static void nk_layout_row(@NativeType("struct nk_context *") NkContext ctx, @NativeType("enum nk_layout_format") int fmt, float height, @NativeType("float const *") float[] ratio) {
+        long __start = FunctionProfiler.start();
         nnk_layout_row(ctx.address(), fmt, height, ratio.length, ratio);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /** Array version of: {@link #nnk_group_scrolled_offset_begin} */
@@ -9414,7 +10313,8 @@ public class Nuklear {
             check(y_offset, 1);
             checkNT1(title);
         }
-        return nnk_group_scrolled_offset_begin(ctx.address(), x_offset, y_offset, memAddress(title), flags) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, nnk_group_scrolled_offset_begin(ctx.address(), x_offset, y_offset, memAddress(title), flags)) != 0;
     }
 
     /** Array version of: {@link #nk_group_scrolled_offset_begin group_scrolled_offset_begin} */
@@ -9428,7 +10328,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_group_scrolled_offset_begin(ctx.address(), x_offset, y_offset, titleEncoded, flags) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 66, __start, nnk_group_scrolled_offset_begin(ctx.address(), x_offset, y_offset, titleEncoded, flags)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9444,7 +10345,9 @@ public class Nuklear {
             checkSafe(x_offset, 1);
             checkSafe(y_offset, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_group_get_scroll(ctx.address(), memAddress(id), x_offset, y_offset);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     /** Array version of: {@link #nk_group_get_scroll group_get_scroll} */
@@ -9457,7 +10360,9 @@ public class Nuklear {
         try {
             stack.nUTF8(id, true);
             long idEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_group_get_scroll(ctx.address(), idEncoded, x_offset, y_offset);
+            FunctionProfiler.end(PROFILE_ID + 69, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9473,7 +10378,8 @@ public class Nuklear {
             checkNT1(title);
             check(state, 1);
         }
-        return nnk_tree_state_push(ctx.address(), type, memAddress(title), state) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, nnk_tree_state_push(ctx.address(), type, memAddress(title), state)) != 0;
     }
 
     /** Array version of: {@link #nk_tree_state_push tree_state_push} */
@@ -9486,7 +10392,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_state_push(ctx.address(), type, titleEncoded, state) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 76, __start, nnk_tree_state_push(ctx.address(), type, titleEncoded, state)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9502,7 +10409,8 @@ public class Nuklear {
             checkNT1(title);
             check(state, 1);
         }
-        return nnk_tree_state_image_push(ctx.address(), type, image.address(), memAddress(title), state) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, nnk_tree_state_image_push(ctx.address(), type, image.address(), memAddress(title), state)) != 0;
     }
 
     /** Array version of: {@link #nk_tree_state_image_push tree_state_image_push} */
@@ -9515,7 +10423,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_state_image_push(ctx.address(), type, image.address(), titleEncoded, state) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 77, __start, nnk_tree_state_image_push(ctx.address(), type, image.address(), titleEncoded, state)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9531,7 +10440,8 @@ public class Nuklear {
             checkNT1(title);
             check(selected, 1);
         }
-        return nnk_tree_element_push_hashed(ctx.address(), type, memAddress(title), initial_state, selected, memAddress(hash), hash.remaining(), seed) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, nnk_tree_element_push_hashed(ctx.address(), type, memAddress(title), initial_state, selected, memAddress(hash), hash.remaining(), seed)) != 0;
     }
 
     /** Array version of: {@link #nk_tree_element_push_hashed tree_element_push_hashed} */
@@ -9544,7 +10454,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_element_push_hashed(ctx.address(), type, titleEncoded, initial_state, selected, memAddress(hash), hash.remaining(), seed) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 79, __start, nnk_tree_element_push_hashed(ctx.address(), type, titleEncoded, initial_state, selected, memAddress(hash), hash.remaining(), seed)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9560,7 +10471,8 @@ public class Nuklear {
             checkNT1(title);
             check(selected, 1);
         }
-        return nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), memAddress(title), initial_state, selected, memAddress(hash), hash.remaining(), seed) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), memAddress(title), initial_state, selected, memAddress(hash), hash.remaining(), seed)) != 0;
     }
 
     /** Array version of: {@link #nk_tree_element_image_push_hashed tree_element_image_push_hashed} */
@@ -9573,7 +10485,8 @@ public class Nuklear {
         try {
             stack.nUTF8(title, true);
             long titleEncoded = stack.getPointerAddress();
-            return nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), titleEncoded, initial_state, selected, memAddress(hash), hash.remaining(), seed) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 80, __start, nnk_tree_element_image_push_hashed(ctx.address(), type, img.address(), titleEncoded, initial_state, selected, memAddress(hash), hash.remaining(), seed)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9589,7 +10502,8 @@ public class Nuklear {
             checkNT1(str);
             check(active, 1);
         }
-        return nnk_checkbox_label(ctx.address(), memAddress(str), active) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 116, __start, nnk_checkbox_label(ctx.address(), memAddress(str), active)) != 0;
     }
 
     /** Array version of: {@link #nk_checkbox_label checkbox_label} */
@@ -9602,7 +10516,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_label(ctx.address(), strEncoded, active) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 116, __start, nnk_checkbox_label(ctx.address(), strEncoded, active)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9617,7 +10532,8 @@ public class Nuklear {
         if (CHECKS) {
             check(active, 1);
         }
-        return nnk_checkbox_text(ctx.address(), memAddress(str), str.remaining(), active) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 117, __start, nnk_checkbox_text(ctx.address(), memAddress(str), str.remaining(), active)) != 0;
     }
 
     /** Array version of: {@link #nk_checkbox_text checkbox_text} */
@@ -9630,7 +10546,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_text(ctx.address(), strEncoded, strEncodedLength, active) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 117, __start, nnk_checkbox_text(ctx.address(), strEncoded, strEncodedLength, active)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9646,7 +10563,8 @@ public class Nuklear {
             checkNT1(str);
             check(flags, 1);
         }
-        return nnk_checkbox_flags_label(ctx.address(), memAddress(str), flags, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 118, __start, nnk_checkbox_flags_label(ctx.address(), memAddress(str), flags, value)) != 0;
     }
 
     /** Array version of: {@link #nk_checkbox_flags_label checkbox_flags_label} */
@@ -9659,7 +10577,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_flags_label(ctx.address(), strEncoded, flags, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 118, __start, nnk_checkbox_flags_label(ctx.address(), strEncoded, flags, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9674,7 +10593,8 @@ public class Nuklear {
         if (CHECKS) {
             check(flags, 1);
         }
-        return nnk_checkbox_flags_text(ctx.address(), memAddress(str), str.remaining(), flags, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 119, __start, nnk_checkbox_flags_text(ctx.address(), memAddress(str), str.remaining(), flags, value)) != 0;
     }
 
     /** Array version of: {@link #nk_checkbox_flags_text checkbox_flags_text} */
@@ -9687,7 +10607,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_checkbox_flags_text(ctx.address(), strEncoded, strEncodedLength, flags, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 119, __start, nnk_checkbox_flags_text(ctx.address(), strEncoded, strEncodedLength, flags, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9703,7 +10624,8 @@ public class Nuklear {
             checkNT1(str);
             check(active, 1);
         }
-        return nnk_radio_label(ctx.address(), memAddress(str), active) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 120, __start, nnk_radio_label(ctx.address(), memAddress(str), active)) != 0;
     }
 
     /** Array version of: {@link #nk_radio_label radio_label} */
@@ -9716,7 +10638,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_radio_label(ctx.address(), strEncoded, active) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 120, __start, nnk_radio_label(ctx.address(), strEncoded, active)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9731,7 +10654,8 @@ public class Nuklear {
         if (CHECKS) {
             check(active, 1);
         }
-        return nnk_radio_text(ctx.address(), memAddress(str), str.remaining(), active) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 121, __start, nnk_radio_text(ctx.address(), memAddress(str), str.remaining(), active)) != 0;
     }
 
     /** Array version of: {@link #nk_radio_text radio_text} */
@@ -9744,7 +10668,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_radio_text(ctx.address(), strEncoded, strEncodedLength, active) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 121, __start, nnk_radio_text(ctx.address(), strEncoded, strEncodedLength, active)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9760,7 +10685,8 @@ public class Nuklear {
             checkNT1(str);
             check(value, 1);
         }
-        return nnk_selectable_label(ctx.address(), memAddress(str), align, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 124, __start, nnk_selectable_label(ctx.address(), memAddress(str), align, value)) != 0;
     }
 
     /** Array version of: {@link #nk_selectable_label selectable_label} */
@@ -9773,7 +10699,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_label(ctx.address(), strEncoded, align, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 124, __start, nnk_selectable_label(ctx.address(), strEncoded, align, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9788,7 +10715,8 @@ public class Nuklear {
         if (CHECKS) {
             check(value, 1);
         }
-        return nnk_selectable_text(ctx.address(), memAddress(str), str.remaining(), align, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 125, __start, nnk_selectable_text(ctx.address(), memAddress(str), str.remaining(), align, value)) != 0;
     }
 
     /** Array version of: {@link #nk_selectable_text selectable_text} */
@@ -9801,7 +10729,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_text(ctx.address(), strEncoded, strEncodedLength, align, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 125, __start, nnk_selectable_text(ctx.address(), strEncoded, strEncodedLength, align, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9817,7 +10746,8 @@ public class Nuklear {
             checkNT1(str);
             check(value, 1);
         }
-        return nnk_selectable_image_label(ctx.address(), img.address(), memAddress(str), align, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 126, __start, nnk_selectable_image_label(ctx.address(), img.address(), memAddress(str), align, value)) != 0;
     }
 
     /** Array version of: {@link #nk_selectable_image_label selectable_image_label} */
@@ -9830,7 +10760,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_image_label(ctx.address(), img.address(), strEncoded, align, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 126, __start, nnk_selectable_image_label(ctx.address(), img.address(), strEncoded, align, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9845,7 +10776,8 @@ public class Nuklear {
         if (CHECKS) {
             check(value, 1);
         }
-        return nnk_selectable_image_text(ctx.address(), img.address(), memAddress(str), str.remaining(), align, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 127, __start, nnk_selectable_image_text(ctx.address(), img.address(), memAddress(str), str.remaining(), align, value)) != 0;
     }
 
     /** Array version of: {@link #nk_selectable_image_text selectable_image_text} */
@@ -9858,7 +10790,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_image_text(ctx.address(), img.address(), strEncoded, strEncodedLength, align, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 127, __start, nnk_selectable_image_text(ctx.address(), img.address(), strEncoded, strEncodedLength, align, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9874,7 +10807,8 @@ public class Nuklear {
             checkNT1(str);
             check(value, 1);
         }
-        return nnk_selectable_symbol_label(ctx.address(), symbol, memAddress(str), align, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 128, __start, nnk_selectable_symbol_label(ctx.address(), symbol, memAddress(str), align, value)) != 0;
     }
 
     /** Array version of: {@link #nk_selectable_symbol_label selectable_symbol_label} */
@@ -9887,7 +10821,8 @@ public class Nuklear {
         try {
             stack.nUTF8(str, true);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_symbol_label(ctx.address(), symbol, strEncoded, align, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 128, __start, nnk_selectable_symbol_label(ctx.address(), symbol, strEncoded, align, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9902,7 +10837,8 @@ public class Nuklear {
         if (CHECKS) {
             check(value, 1);
         }
-        return nnk_selectable_symbol_text(ctx.address(), symbol, memAddress(str), str.remaining(), align, value) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 129, __start, nnk_selectable_symbol_text(ctx.address(), symbol, memAddress(str), str.remaining(), align, value)) != 0;
     }
 
     /** Array version of: {@link #nk_selectable_symbol_text selectable_symbol_text} */
@@ -9915,7 +10851,8 @@ public class Nuklear {
         try {
             int strEncodedLength = stack.nUTF8(str, false);
             long strEncoded = stack.getPointerAddress();
-            return nnk_selectable_symbol_text(ctx.address(), symbol, strEncoded, strEncodedLength, align, value) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 129, __start, nnk_selectable_symbol_text(ctx.address(), symbol, strEncoded, strEncodedLength, align, value)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9929,7 +10866,8 @@ public class Nuklear {
         if (CHECKS) {
             check(val, 1);
         }
-        return nnk_slider_float(ctx.address(), min, val, max, step);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 138, __start, nnk_slider_float(ctx.address(), min, val, max, step));
     }
 
     /** Array version of: {@link #nnk_slider_int} */
@@ -9940,7 +10878,8 @@ public class Nuklear {
         if (CHECKS) {
             check(val, 1);
         }
-        return nnk_slider_int(ctx.address(), min, val, max, step);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 139, __start, nnk_slider_int(ctx.address(), min, val, max, step));
     }
 
     /** Array version of: {@link #nnk_property_int} */
@@ -9952,7 +10891,9 @@ public class Nuklear {
             checkNT1(name);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_property_int(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel);
+        FunctionProfiler.end(PROFILE_ID + 144, __start);
     }
 
     /** Array version of: {@link #nk_property_int property_int} */
@@ -9964,7 +10905,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_property_int(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel);
+            FunctionProfiler.end(PROFILE_ID + 144, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9979,7 +10922,9 @@ public class Nuklear {
             checkNT1(name);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_property_float(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel);
+        FunctionProfiler.end(PROFILE_ID + 145, __start);
     }
 
     /** Array version of: {@link #nk_property_float property_float} */
@@ -9991,7 +10936,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_property_float(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel);
+            FunctionProfiler.end(PROFILE_ID + 145, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10006,7 +10953,9 @@ public class Nuklear {
             checkNT1(name);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_property_double(ctx.address(), memAddress(name), min, val, max, step, inc_per_pixel);
+        FunctionProfiler.end(PROFILE_ID + 146, __start);
     }
 
     /** Array version of: {@link #nk_property_double property_double} */
@@ -10018,7 +10967,9 @@ public class Nuklear {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_property_double(ctx.address(), nameEncoded, min, val, max, step, inc_per_pixel);
+            FunctionProfiler.end(PROFILE_ID + 146, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10034,7 +10985,8 @@ public class Nuklear {
             checkNT1(memory);
             check(len, 1);
         }
-        return nnk_edit_string(ctx.address(), flags, memAddress(memory), len, max, memAddressSafe(filter));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 152, __start, nnk_edit_string(ctx.address(), flags, memAddress(memory), len, max, memAddressSafe(filter)));
     }
 
     /** Array version of: {@link #nk_edit_string edit_string} */
@@ -10047,7 +10999,8 @@ public class Nuklear {
         try {
             stack.nUTF8(memory, true);
             long memoryEncoded = stack.getPointerAddress();
-            return nnk_edit_string(ctx.address(), flags, memoryEncoded, len, max, memAddressSafe(filter));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 152, __start, nnk_edit_string(ctx.address(), flags, memoryEncoded, len, max, memAddressSafe(filter)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10061,7 +11014,9 @@ public class Nuklear {
         if (CHECKS) {
             check(values, offset + count);
         }
+        long __start = FunctionProfiler.start();
         nnk_plot(ctx.address(), type, values, count, offset);
+        FunctionProfiler.end(PROFILE_ID + 162, __start);
     }
 
     /** Array version of: {@link #nnk_popup_get_scroll} */
@@ -10073,7 +11028,9 @@ public class Nuklear {
             checkSafe(offset_x, 1);
             checkSafe(offset_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_popup_get_scroll(ctx.address(), offset_x, offset_y);
+        FunctionProfiler.end(PROFILE_ID + 167, __start);
     }
 
     /** Array version of: {@link #nnk_combobox} */
@@ -10084,7 +11041,9 @@ public class Nuklear {
         if (CHECKS) {
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox(ctx.address(), memAddress(items), items.remaining(), selected, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 173, __start);
     }
 
     /** Array version of: {@link #nnk_combobox_string} */
@@ -10096,7 +11055,9 @@ public class Nuklear {
             checkNT1(items_separated_by_zeros);
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox_string(ctx.address(), memAddress(items_separated_by_zeros), selected, count, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 174, __start);
     }
 
     /** Array version of: {@link #nk_combobox_string combobox_string} */
@@ -10108,7 +11069,9 @@ public class Nuklear {
         try {
             stack.nUTF8(items_separated_by_zeros, true);
             long items_separated_by_zerosEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_combobox_string(ctx.address(), items_separated_by_zerosEncoded, selected, count, item_height, size.address());
+            FunctionProfiler.end(PROFILE_ID + 174, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10123,7 +11086,9 @@ public class Nuklear {
             checkNT1(items_separated_by_separator);
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox_separator(ctx.address(), memAddress(items_separated_by_separator), separator, selected, count, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 175, __start);
     }
 
     /** Array version of: {@link #nk_combobox_separator combobox_separator} */
@@ -10135,7 +11100,9 @@ public class Nuklear {
         try {
             stack.nUTF8(items_separated_by_separator, true);
             long items_separated_by_separatorEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nnk_combobox_separator(ctx.address(), items_separated_by_separatorEncoded, separator, selected, count, item_height, size.address());
+            FunctionProfiler.end(PROFILE_ID + 175, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10150,7 +11117,9 @@ public class Nuklear {
             check(userdata);
             check(selected, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_combobox_callback(ctx.address(), item_getter.address(), userdata, selected, count, item_height, size.address());
+        FunctionProfiler.end(PROFILE_ID + 176, __start);
     }
 
     /** Array version of: {@link #nnk_style_push_float} */
@@ -10161,7 +11130,8 @@ public class Nuklear {
         if (CHECKS) {
             check(address, 1);
         }
-        return nnk_style_push_float(ctx.address(), address, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 244, __start, nnk_style_push_float(ctx.address(), address, value));
     }
 
     /** Array version of: {@link #nnk_style_push_flags} */
@@ -10172,7 +11142,8 @@ public class Nuklear {
         if (CHECKS) {
             check(address, 1);
         }
-        return nnk_style_push_flags(ctx.address(), address, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 247, __start, nnk_style_push_flags(ctx.address(), address, value));
     }
 
     /** Array version of: {@link #nnk_rgb_iv} */
@@ -10184,7 +11155,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgb, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgb_iv(rgb, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 267, __start);
         return __result;
     }
 
@@ -10197,7 +11170,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgb, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgb_fv(rgb, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 270, __start);
         return __result;
     }
 
@@ -10210,7 +11185,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgba_iv(rgba, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 275, __start);
         return __result;
     }
 
@@ -10223,7 +11200,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rgba_fv(rgba, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 278, __start);
         return __result;
     }
 
@@ -10236,7 +11215,9 @@ public class Nuklear {
         if (CHECKS) {
             check(c, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_colorfv(c, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 282, __start);
         return __result;
     }
 
@@ -10251,7 +11232,9 @@ public class Nuklear {
             check(out_v, 1);
             check(out_a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_colorf_hsva_f(out_h, out_s, out_v, out_a, in.address());
+        FunctionProfiler.end(PROFILE_ID + 283, __start);
     }
 
     /** Array version of: {@link #nnk_colorf_hsva_fv} */
@@ -10262,7 +11245,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_colorf_hsva_fv(hsva, in.address());
+        FunctionProfiler.end(PROFILE_ID + 284, __start);
     }
 
     /** Array version of: {@link #nnk_hsv_iv} */
@@ -10274,7 +11259,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsv_iv(hsv, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 286, __start);
         return __result;
     }
 
@@ -10287,7 +11274,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsv_fv(hsv, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 289, __start);
         return __result;
     }
 
@@ -10300,7 +11289,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_iv(hsva, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 291, __start);
         return __result;
     }
 
@@ -10313,7 +11304,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_hsva_fv(hsva, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 294, __start);
         return __result;
     }
 
@@ -10328,7 +11321,9 @@ public class Nuklear {
             check(b, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_f(r, g, b, a, color.address());
+        FunctionProfiler.end(PROFILE_ID + 295, __start);
     }
 
     /** Array version of: {@link #nnk_color_fv} */
@@ -10339,7 +11334,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_fv(rgba_out, color.address());
+        FunctionProfiler.end(PROFILE_ID + 296, __start);
     }
 
     /** Array version of: {@link #nnk_color_d} */
@@ -10353,7 +11350,9 @@ public class Nuklear {
             check(b, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_d(r, g, b, a, color.address());
+        FunctionProfiler.end(PROFILE_ID + 298, __start);
     }
 
     /** Array version of: {@link #nnk_color_dv} */
@@ -10364,7 +11363,9 @@ public class Nuklear {
         if (CHECKS) {
             check(rgba_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_dv(rgba_out, color.address());
+        FunctionProfiler.end(PROFILE_ID + 299, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsv_i} */
@@ -10377,7 +11378,9 @@ public class Nuklear {
             check(out_s, 1);
             check(out_v, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_i(out_h, out_s, out_v, color.address());
+        FunctionProfiler.end(PROFILE_ID + 303, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsv_iv} */
@@ -10388,7 +11391,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv_out, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_iv(hsv_out, color.address());
+        FunctionProfiler.end(PROFILE_ID + 305, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsv_f} */
@@ -10401,7 +11406,9 @@ public class Nuklear {
             check(out_s, 1);
             check(out_v, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_f(out_h, out_s, out_v, color.address());
+        FunctionProfiler.end(PROFILE_ID + 307, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsv_fv} */
@@ -10412,7 +11419,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsv_out, 3);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsv_fv(hsv_out, color.address());
+        FunctionProfiler.end(PROFILE_ID + 308, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsva_i} */
@@ -10426,7 +11435,9 @@ public class Nuklear {
             check(v, 1);
             check(a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_i(h, s, v, a, color.address());
+        FunctionProfiler.end(PROFILE_ID + 309, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsva_iv} */
@@ -10437,7 +11448,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_iv(hsva_out, color.address());
+        FunctionProfiler.end(PROFILE_ID + 311, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsva_f} */
@@ -10451,7 +11464,9 @@ public class Nuklear {
             check(out_v, 1);
             check(out_a, 1);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_f(out_h, out_s, out_v, out_a, color.address());
+        FunctionProfiler.end(PROFILE_ID + 313, __start);
     }
 
     /** Array version of: {@link #nnk_color_hsva_fv} */
@@ -10462,7 +11477,9 @@ public class Nuklear {
         if (CHECKS) {
             check(hsva_out, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_color_hsva_fv(hsva_out, color.address());
+        FunctionProfiler.end(PROFILE_ID + 314, __start);
     }
 
     /** Array version of: {@link #nnk_vec2v} */
@@ -10474,7 +11491,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xy, 2);
         }
+        long __start = FunctionProfiler.start();
         nnk_vec2v(xy, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 328, __start);
         return __result;
     }
 
@@ -10487,7 +11506,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xy, 2);
         }
+        long __start = FunctionProfiler.start();
         nnk_vec2iv(xy, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 329, __start);
         return __result;
     }
 
@@ -10500,7 +11521,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xywh, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rectv(xywh, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 334, __start);
         return __result;
     }
 
@@ -10513,7 +11536,9 @@ public class Nuklear {
         if (CHECKS) {
             check(xywh, 4);
         }
+        long __start = FunctionProfiler.start();
         nnk_rectiv(xywh, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 335, __start);
         return __result;
     }
 
@@ -10528,7 +11553,8 @@ public class Nuklear {
             checkNT1(pattern);
             check(out_score, 1);
         }
-        return nnk_strmatch_fuzzy_string(memAddress(str), memAddress(pattern), out_score) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 345, __start, nnk_strmatch_fuzzy_string(memAddress(str), memAddress(pattern), out_score)) != 0;
     }
 
     /** Array version of: {@link #nk_strmatch_fuzzy_string strmatch_fuzzy_string} */
@@ -10543,7 +11569,8 @@ public class Nuklear {
             long strEncoded = stack.getPointerAddress();
             stack.nUTF8(pattern, true);
             long patternEncoded = stack.getPointerAddress();
-            return nnk_strmatch_fuzzy_string(strEncoded, patternEncoded, out_score) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 345, __start, nnk_strmatch_fuzzy_string(strEncoded, patternEncoded, out_score)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10558,7 +11585,8 @@ public class Nuklear {
             checkNT1(pattern);
             check(out_score, 1);
         }
-        return nnk_strmatch_fuzzy_text(memAddress(txt), txt.remaining(), memAddress(pattern), out_score);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 346, __start, nnk_strmatch_fuzzy_text(memAddress(txt), txt.remaining(), memAddress(pattern), out_score));
     }
 
     /** Array version of: {@link #nk_strmatch_fuzzy_text strmatch_fuzzy_text} */
@@ -10572,7 +11600,8 @@ public class Nuklear {
             long txtEncoded = stack.getPointerAddress();
             stack.nUTF8(pattern, true);
             long patternEncoded = stack.getPointerAddress();
-            return nnk_strmatch_fuzzy_text(txtEncoded, txtEncodedLength, patternEncoded, out_score);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 346, __start, nnk_strmatch_fuzzy_text(txtEncoded, txtEncodedLength, patternEncoded, out_score));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -10586,7 +11615,8 @@ public class Nuklear {
         if (CHECKS) {
             check(u, 1);
         }
-        return nnk_utf_decode(memAddress(c), u, c.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 347, __start, nnk_utf_decode(memAddress(c), u, c.remaining()));
     }
 
     /** Array version of: {@link #nnk_utf_at} */
@@ -10602,7 +11632,8 @@ public class Nuklear {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer len = stack.callocInt(1);
-            long __result = nnk_utf_at(memAddress(buffer), buffer.remaining(), index, unicode, memAddress(len));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 350, __start, nnk_utf_at(memAddress(buffer), buffer.remaining(), index, unicode, memAddress(len)));
             return memByteBufferSafe(__result, len.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -10614,7 +11645,8 @@ public class Nuklear {
 
     /** Array version of: {@link #nk_str_append_text_runes str_append_text_runes} */
     public static int nk_str_append_text_runes(@NativeType("struct nk_str *") NkStr s, @NativeType("nk_rune const *") int[] runes) {
-        return nnk_str_append_text_runes(s.address(), runes, runes.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 370, __start, nnk_str_append_text_runes(s.address(), runes, runes.length));
     }
 
     /** Array version of: {@link #nnk_str_append_str_runes} */
@@ -10625,7 +11657,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT(runes);
         }
-        return nnk_str_append_str_runes(s.address(), runes);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 371, __start, nnk_str_append_str_runes(s.address(), runes));
     }
 
     /** Array version of: {@link #nnk_str_insert_text_runes} */
@@ -10633,7 +11666,8 @@ public class Nuklear {
 
     /** Array version of: {@link #nk_str_insert_text_runes str_insert_text_runes} */
     public static int nk_str_insert_text_runes(@NativeType("struct nk_str *") NkStr s, int pos, @NativeType("nk_rune const *") int[] runes) {
-        return nnk_str_insert_text_runes(s.address(), pos, runes, runes.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 378, __start, nnk_str_insert_text_runes(s.address(), pos, runes, runes.length));
     }
 
     /** Array version of: {@link #nnk_str_insert_str_runes} */
@@ -10644,7 +11678,8 @@ public class Nuklear {
         if (CHECKS) {
             checkNT(runes);
         }
-        return nnk_str_insert_str_runes(s.address(), pos, runes);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 379, __start, nnk_str_insert_str_runes(s.address(), pos, runes));
     }
 
     /** Array version of: {@link #nnk_str_at_rune} */
@@ -10660,7 +11695,8 @@ public class Nuklear {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer len = stack.callocInt(1);
         try {
-            long __result = nnk_str_at_rune(s.address(), pos, unicode, memAddress(len));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 385, __start, nnk_str_at_rune(s.address(), pos, unicode, memAddress(len)));
             return memByteBufferSafe(__result, len.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -10680,7 +11716,8 @@ public class Nuklear {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer len = stack.callocInt(1);
         try {
-            long __result = nnk_str_at_const(s.address(), pos, unicode, memAddress(len));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 388, __start, nnk_str_at_const(s.address(), pos, unicode, memAddress(len)));
             return memByteBufferSafe(__result, len.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -10692,7 +11729,9 @@ public class Nuklear {
 
     /** Array version of: {@link #nk_stroke_polyline stroke_polyline} */
     public static void nk_stroke_polyline(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("float *") float[] points, float line_thickness, @NativeType("struct nk_color") NkColor col) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_polyline(b.address(), points, points.length, line_thickness, col.address());
+        FunctionProfiler.end(PROFILE_ID + 417, __start);
     }
 
     /** Array version of: {@link #nnk_stroke_polygon} */
@@ -10700,7 +11739,9 @@ public class Nuklear {
 
     /** Array version of: {@link #nk_stroke_polygon stroke_polygon} */
     public static void nk_stroke_polygon(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("float *") float[] points, float line_thickness, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_stroke_polygon(b.address(), points, points.length, line_thickness, color.address());
+        FunctionProfiler.end(PROFILE_ID + 418, __start);
     }
 
     /** Array version of: {@link #nnk_fill_polygon} */
@@ -10708,7 +11749,9 @@ public class Nuklear {
 
     /** Array version of: {@link #nk_fill_polygon fill_polygon} */
     public static void nk_fill_polygon(@NativeType("struct nk_command_buffer *") NkCommandBuffer b, @NativeType("float *") float[] points, @NativeType("struct nk_color") NkColor color) {
+        long __start = FunctionProfiler.start();
         nnk_fill_polygon(b.address(), points, points.length, color.address());
+        FunctionProfiler.end(PROFILE_ID + 424, __start);
     }
 
 }
\ No newline at end of file
@@ -201,6 +201,24 @@ public class DBDATETIM4 extends Struct implements NativeResource {
         return wrap(DBDATETIM4.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code DBDATETIM4} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DBDATETIM4 malloc(MemoryArena arena) {
+        return wrap(DBDATETIM4.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code DBDATETIM4} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DBDATETIM4 calloc(MemoryArena arena) {
+        return wrap(DBDATETIM4.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link DBDATETIM4.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class DBDATETIM4 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link DBDATETIM4.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DBDATETIM4.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link DBDATETIM4.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DBDATETIM4.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #numdays}. */
@@ -301,6 +339,24 @@ public class DBDATETIM4 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code nummins} field. */
         public DBDATETIM4.Buffer nummins(@NativeType("USHORT") short value) { DBDATETIM4.nnummins(address(), value); return this; }
 
+        /** Copies the {@code numdays} field of the structs between the current position and limit to the specified array. */
+        public DBDATETIM4.Buffer getNumdays(short[] dst) { gather(DBDATETIM4.NUMDAYS, dst); return this; }
+        /** Copies the {@code numdays} field of the structs between the current position and limit to the specified buffer. */
+        public DBDATETIM4.Buffer getNumdays(ShortBuffer dst) { gather(DBDATETIM4.NUMDAYS, dst); return this; }
+        /** Copies the {@code nummins} field of the structs between the current position and limit to the specified array. */
+        public DBDATETIM4.Buffer getNummins(short[] dst) { gather(DBDATETIM4.NUMMINS, dst); return this; }
+        /** Copies the {@code nummins} field of the structs between the current position and limit to the specified buffer. */
+        public DBDATETIM4.Buffer getNummins(ShortBuffer dst) { gather(DBDATETIM4.NUMMINS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code numdays} field of the structs between the current position and limit. */
+        public DBDATETIM4.Buffer putNumdays(short[] src) { scatter(DBDATETIM4.NUMDAYS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code numdays} field of the structs between the current position and limit. */
+        public DBDATETIM4.Buffer putNumdays(ShortBuffer src) { scatter(DBDATETIM4.NUMDAYS, src); return this; }
+        /** Copies the values in the specified array to the {@code nummins} field of the structs between the current position and limit. */
+        public DBDATETIM4.Buffer putNummins(short[] src) { scatter(DBDATETIM4.NUMMINS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nummins} field of the structs between the current position and limit. */
+        public DBDATETIM4.Buffer putNummins(ShortBuffer src) { scatter(DBDATETIM4.NUMMINS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -201,6 +201,24 @@ public class DBDATETIME extends Struct implements NativeResource {
         return wrap(DBDATETIME.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code DBDATETIME} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DBDATETIME malloc(MemoryArena arena) {
+        return wrap(DBDATETIME.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code DBDATETIME} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DBDATETIME calloc(MemoryArena arena) {
+        return wrap(DBDATETIME.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link DBDATETIME.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class DBDATETIME extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link DBDATETIME.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DBDATETIME.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link DBDATETIME.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DBDATETIME.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #dtdays}. */
@@ -301,6 +339,24 @@ public class DBDATETIME extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dttime} field. */
         public DBDATETIME.Buffer dttime(@NativeType("ULONG") int value) { DBDATETIME.ndttime(address(), value); return this; }
 
+        /** Copies the {@code dtdays} field of the structs between the current position and limit to the specified array. */
+        public DBDATETIME.Buffer getDtdays(int[] dst) { gather(DBDATETIME.DTDAYS, dst); return this; }
+        /** Copies the {@code dtdays} field of the structs between the current position and limit to the specified buffer. */
+        public DBDATETIME.Buffer getDtdays(IntBuffer dst) { gather(DBDATETIME.DTDAYS, dst); return this; }
+        /** Copies the {@code dttime} field of the structs between the current position and limit to the specified array. */
+        public DBDATETIME.Buffer getDttime(int[] dst) { gather(DBDATETIME.DTTIME, dst); return this; }
+        /** Copies the {@code dttime} field of the structs between the current position and limit to the specified buffer. */
+        public DBDATETIME.Buffer getDttime(IntBuffer dst) { gather(DBDATETIME.DTTIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code dtdays} field of the structs between the current position and limit. */
+        public DBDATETIME.Buffer putDtdays(int[] src) { scatter(DBDATETIME.DTDAYS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dtdays} field of the structs between the current position and limit. */
+        public DBDATETIME.Buffer putDtdays(IntBuffer src) { scatter(DBDATETIME.DTDAYS, src); return this; }
+        /** Copies the values in the specified array to the {@code dttime} field of the structs between the current position and limit. */
+        public DBDATETIME.Buffer putDttime(int[] src) { scatter(DBDATETIME.DTTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dttime} field of the structs between the current position and limit. */
+        public DBDATETIME.Buffer putDttime(IntBuffer src) { scatter(DBDATETIME.DTTIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
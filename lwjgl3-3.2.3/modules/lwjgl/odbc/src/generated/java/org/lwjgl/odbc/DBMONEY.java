@@ -201,6 +201,24 @@ public class DBMONEY extends Struct implements NativeResource {
         return wrap(DBMONEY.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code DBMONEY} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DBMONEY malloc(MemoryArena arena) {
+        return wrap(DBMONEY.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code DBMONEY} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DBMONEY calloc(MemoryArena arena) {
+        return wrap(DBMONEY.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link DBMONEY.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class DBMONEY extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link DBMONEY.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DBMONEY.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link DBMONEY.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DBMONEY.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mnyhigh}. */
@@ -301,6 +339,24 @@ public class DBMONEY extends Struct implements NativeResource {
         /** Sets the specified value to the {@code mnylow} field. */
         public DBMONEY.Buffer mnylow(@NativeType("ULONG") int value) { DBMONEY.nmnylow(address(), value); return this; }
 
+        /** Copies the {@code mnyhigh} field of the structs between the current position and limit to the specified array. */
+        public DBMONEY.Buffer getMnyhigh(int[] dst) { gather(DBMONEY.MNYHIGH, dst); return this; }
+        /** Copies the {@code mnyhigh} field of the structs between the current position and limit to the specified buffer. */
+        public DBMONEY.Buffer getMnyhigh(IntBuffer dst) { gather(DBMONEY.MNYHIGH, dst); return this; }
+        /** Copies the {@code mnylow} field of the structs between the current position and limit to the specified array. */
+        public DBMONEY.Buffer getMnylow(int[] dst) { gather(DBMONEY.MNYLOW, dst); return this; }
+        /** Copies the {@code mnylow} field of the structs between the current position and limit to the specified buffer. */
+        public DBMONEY.Buffer getMnylow(IntBuffer dst) { gather(DBMONEY.MNYLOW, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mnyhigh} field of the structs between the current position and limit. */
+        public DBMONEY.Buffer putMnyhigh(int[] src) { scatter(DBMONEY.MNYHIGH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mnyhigh} field of the structs between the current position and limit. */
+        public DBMONEY.Buffer putMnyhigh(IntBuffer src) { scatter(DBMONEY.MNYHIGH, src); return this; }
+        /** Copies the values in the specified array to the {@code mnylow} field of the structs between the current position and limit. */
+        public DBMONEY.Buffer putMnylow(int[] src) { scatter(DBMONEY.MNYLOW, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mnylow} field of the structs between the current position and limit. */
+        public DBMONEY.Buffer putMnylow(IntBuffer src) { scatter(DBMONEY.MNYLOW, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -1994,6 +1994,8 @@ public class SQL {
         SQL_LOCK_UNLOCK           = 2,
         SQL_SETPOS_MAX_LOCK_VALUE = SQL_LOCK_UNLOCK;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SQL.class, "SQLAllocHandle,SQLConnect,SQLDataSources,SQLGetInfo,SQLGetFunctions,SQLGetTypeInfo,SQLSetConnectAttr,SQLGetConnectAttr,SQLSetEnvAttr,SQLGetEnvAttr,SQLSetStmtAttr,SQLGetStmtAttr,SQLGetDescField,SQLGetDescRec,SQLSetDescField,SQLSetDescRec,SQLCopyDesc,SQLPrepare,SQLGetCursorName,SQLSetCursorName,SQLExecute,SQLExecDirect,SQLParamData,SQLPutData,SQLRowCount,SQLNumResultCols,SQLDescribeCol,SQLColAttribute,SQLBindCol,SQLFetch,SQLFetchScroll,SQLGetData,SQLGetDiagField,SQLGetDiagRec,SQLFreeStmt,SQLCloseCursor,SQLCancel,SQLCancelHandle,SQLEndTran,SQLDisconnect,SQLFreeHandle,SQLCompleteAsync,SQLColumns,SQLSpecialColumns,SQLStatistics,SQLTables,SQLTransact,SQLDriverConnect,SQLBrowseConnect,SQLBulkOperations,SQLColumnPrivileges,SQLDescribeParam,SQLExtendedFetch,SQLForeignKeys,SQLMoreResults,SQLNativeSql,SQLNumParams,SQLParamOptions,SQLPrimaryKeys,SQLProcedureColumns,SQLProcedures,SQLSetPos,SQLTablePrivileges,SQLDrivers,SQLBindParameter,SQLAllocHandleStd");
+
     protected SQL() {
         throw new UnsupportedOperationException();
     }
@@ -2086,7 +2088,8 @@ public class SQL {
     /** Unsafe version of: {@link #SQLAllocHandle AllocHandle} */
     public static short nSQLAllocHandle(short HandleType, long InputHandle, long OutputHandle) {
         long __functionAddress = Functions.AllocHandle;
-        return callPPS(HandleType, InputHandle, OutputHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPS(HandleType, InputHandle, OutputHandle, __functionAddress));
     }
 
     /**
@@ -2127,7 +2130,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPPPS(ConnectionHandle, ServerName, NameLength1, UserName, NameLength2, Authentication, NameLength3, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPS(ConnectionHandle, ServerName, NameLength1, UserName, NameLength2, Authentication, NameLength3, __functionAddress));
     }
 
     /**
@@ -2191,7 +2195,8 @@ public class SQL {
             check(__functionAddress);
             check(EnvironmentHandle);
         }
-        return callPPPPPS(EnvironmentHandle, Direction, ServerName, BufferLength1, NameLength1Ptr, Description, BufferLength2, NameLength2Ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPPS(EnvironmentHandle, Direction, ServerName, BufferLength1, NameLength1Ptr, Description, BufferLength2, NameLength2Ptr, __functionAddress));
     }
 
     /**
@@ -2243,7 +2248,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPPS(ConnectionHandle, InfoType, InfoValuePtr, BufferLength, StringLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPS(ConnectionHandle, InfoType, InfoValuePtr, BufferLength, StringLengthPtr, __functionAddress));
     }
 
     /**
@@ -2318,7 +2324,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPS(ConnectionHandle, FunctionId, SupportedPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPS(ConnectionHandle, FunctionId, SupportedPtr, __functionAddress));
     }
 
     /**
@@ -2357,7 +2364,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, DataType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPS(StatementHandle, DataType, __functionAddress));
     }
 
     // --- [ SQLSetConnectAttr ] ---
@@ -2387,7 +2395,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPS(ConnectionHandle, Attribute, Value, StringLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPS(ConnectionHandle, Attribute, Value, StringLength, __functionAddress));
     }
 
     /**
@@ -2416,7 +2425,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPPS(ConnectionHandle, Attribute, ValuePtr, BufferLength, StringLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPS(ConnectionHandle, Attribute, ValuePtr, BufferLength, StringLengthPtr, __functionAddress));
     }
 
     /**
@@ -2445,7 +2455,8 @@ public class SQL {
      */
     public static short nSQLSetEnvAttr(long EnvironmentHandle, int Attribute, long Value, int StringLength) {
         long __functionAddress = Functions.SetEnvAttr;
-        return callPPS(EnvironmentHandle, Attribute, Value, StringLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPS(EnvironmentHandle, Attribute, Value, StringLength, __functionAddress));
     }
 
     /**
@@ -2473,7 +2484,8 @@ public class SQL {
         if (CHECKS) {
             check(EnvironmentHandle);
         }
-        return callPPPS(EnvironmentHandle, Attribute, ValuePtr, BufferLength, StringLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPS(EnvironmentHandle, Attribute, ValuePtr, BufferLength, StringLengthPtr, __functionAddress));
     }
 
     /**
@@ -2499,7 +2511,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, Attribute, Value, StringLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPS(StatementHandle, Attribute, Value, StringLength, __functionAddress));
     }
 
     /**
@@ -2523,7 +2536,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPS(StatementHandle, Attribute, ValuePtr, BufferLength, StringLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPS(StatementHandle, Attribute, ValuePtr, BufferLength, StringLengthPtr, __functionAddress));
     }
 
     /**
@@ -2549,7 +2563,8 @@ public class SQL {
         if (CHECKS) {
             check(DescriptorHandle);
         }
-        return callPPPS(DescriptorHandle, RecNumber, FieldIdentifier, ValuePtr, BufferLength, StringLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPS(DescriptorHandle, RecNumber, FieldIdentifier, ValuePtr, BufferLength, StringLengthPtr, __functionAddress));
     }
 
     /**
@@ -2573,7 +2588,8 @@ public class SQL {
         if (CHECKS) {
             check(DescriptorHandle);
         }
-        return callPPPPPPPPPS(DescriptorHandle, RecNumber, Name, BufferLength, StringLengthPtr, TypePtr, SubTypePtr, LengthPtr, PrecisionPtr, ScalePtr, NullablePtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPPPPPPPS(DescriptorHandle, RecNumber, Name, BufferLength, StringLengthPtr, TypePtr, SubTypePtr, LengthPtr, PrecisionPtr, ScalePtr, NullablePtr, __functionAddress));
     }
 
     /**
@@ -2604,7 +2620,8 @@ public class SQL {
         if (CHECKS) {
             check(DescriptorHandle);
         }
-        return callPPS(DescriptorHandle, RecNumber, FieldIdentifier, ValuePtr, BufferLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPS(DescriptorHandle, RecNumber, FieldIdentifier, ValuePtr, BufferLength, __functionAddress));
     }
 
     /**
@@ -2625,7 +2642,8 @@ public class SQL {
         if (CHECKS) {
             check(DescriptorHandle);
         }
-        return callPPPPPS(DescriptorHandle, RecNumber, Type, SubType, Length, Precision, Scale, DataPtr, StringLengthPtr, IndicatorPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPPPS(DescriptorHandle, RecNumber, Type, SubType, Length, Precision, Scale, DataPtr, StringLengthPtr, IndicatorPtr, __functionAddress));
     }
 
     /**
@@ -2657,7 +2675,8 @@ public class SQL {
             check(SourceDescHandle);
             check(TargetDescHandle);
         }
-        return callPPS(SourceDescHandle, TargetDescHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPS(SourceDescHandle, TargetDescHandle, __functionAddress));
     }
 
     // --- [ SQLPrepare ] ---
@@ -2668,7 +2687,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, StatementText, TextLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPPS(StatementHandle, StatementText, TextLength, __functionAddress));
     }
 
     /**
@@ -2706,7 +2726,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPS(StatementHandle, CursorName, BufferLength, NameLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPPPS(StatementHandle, CursorName, BufferLength, NameLengthPtr, __functionAddress));
     }
 
     /**
@@ -2730,7 +2751,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, CursorName, NameLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPS(StatementHandle, CursorName, NameLength, __functionAddress));
     }
 
     /**
@@ -2759,7 +2781,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPS(StatementHandle, __functionAddress));
     }
 
     // --- [ SQLExecDirect ] ---
@@ -2774,7 +2797,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, StatementText, TextLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPS(StatementHandle, StatementText, TextLength, __functionAddress));
     }
 
     /**
@@ -2820,7 +2844,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, ValuePtrPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPS(StatementHandle, ValuePtrPtr, __functionAddress));
     }
 
     /**
@@ -2845,7 +2870,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPS(StatementHandle, DataPtr, StrLen_or_Ind, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPPPS(StatementHandle, DataPtr, StrLen_or_Ind, __functionAddress));
     }
 
     /**
@@ -2868,7 +2894,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, RowCountPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callPPS(StatementHandle, RowCountPtr, __functionAddress));
     }
 
     /**
@@ -2893,7 +2920,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, ColumnCountPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPPS(StatementHandle, ColumnCountPtr, __functionAddress));
     }
 
     /**
@@ -2917,7 +2945,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPPPPS(StatementHandle, ColumnNumber, ColumnName, BufferLength, NameLengthPtr, DataTypePtr, ColumnSizePtr, DecimalDigitsPtr, NullablePtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPPPPPPPS(StatementHandle, ColumnNumber, ColumnName, BufferLength, NameLengthPtr, DataTypePtr, ColumnSizePtr, DecimalDigitsPtr, NullablePtr, __functionAddress));
     }
 
     /**
@@ -2946,7 +2975,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPS(StatementHandle, ColumnNumber, FieldIdentifier, CharacterAttributePtr, BufferLength, StringLengthPtr, NumericAttributePtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPPPS(StatementHandle, ColumnNumber, FieldIdentifier, CharacterAttributePtr, BufferLength, StringLengthPtr, NumericAttributePtr, __functionAddress));
     }
 
     /**
@@ -2972,7 +3002,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPS(StatementHandle, ColumnNumber, TargetType, TargetValuePtr, BufferLength, StrLen_or_Ind, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPPPPS(StatementHandle, ColumnNumber, TargetType, TargetValuePtr, BufferLength, StrLen_or_Ind, __functionAddress));
     }
 
     /**
@@ -3066,7 +3097,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPS(StatementHandle, __functionAddress));
     }
 
     // --- [ SQLFetchScroll ] ---
@@ -3085,7 +3117,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, FetchOrientation, FetchOffset, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPPS(StatementHandle, FetchOrientation, FetchOffset, __functionAddress));
     }
 
     // --- [ SQLGetData ] ---
@@ -3096,7 +3129,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPS(StatementHandle, Col_or_Param_Num, TargetType, TargetValuePtr, BufferLength, StrLen_or_IndPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPPPS(StatementHandle, Col_or_Param_Num, TargetType, TargetValuePtr, BufferLength, StrLen_or_IndPtr, __functionAddress));
     }
 
     /**
@@ -3141,7 +3175,8 @@ public class SQL {
         if (CHECKS) {
             check(Handle);
         }
-        return callPPPS(HandleType, Handle, RecNumber, DiagIdentifier, DiagInfoPtr, BufferLength, StringLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callPPPS(HandleType, Handle, RecNumber, DiagIdentifier, DiagInfoPtr, BufferLength, StringLengthPtr, __functionAddress));
     }
 
     /**
@@ -3182,7 +3217,8 @@ public class SQL {
         if (CHECKS) {
             check(Handle);
         }
-        return callPPPPPS(HandleType, Handle, RecNumber, SQLState, NativeErrorPtr, MessageText, BufferLength, TextLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callPPPPPS(HandleType, Handle, RecNumber, SQLState, NativeErrorPtr, MessageText, BufferLength, TextLengthPtr, __functionAddress));
     }
 
     /**
@@ -3218,7 +3254,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, Option, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPS(StatementHandle, Option, __functionAddress));
     }
 
     // --- [ SQLCloseCursor ] ---
@@ -3234,7 +3271,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPS(StatementHandle, __functionAddress));
     }
 
     // --- [ SQLCancel ] ---
@@ -3252,7 +3290,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPS(StatementHandle, __functionAddress));
     }
 
     // --- [ SQLCancelHandle ] ---
@@ -3274,7 +3313,8 @@ public class SQL {
             check(__functionAddress);
             check(Handle);
         }
-        return callPS(HandleType, Handle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPS(HandleType, Handle, __functionAddress));
     }
 
     // --- [ SQLEndTran ] ---
@@ -3294,7 +3334,8 @@ public class SQL {
         if (CHECKS) {
             check(Handle);
         }
-        return callPS(HandleType, Handle, CompletionType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPS(HandleType, Handle, CompletionType, __functionAddress));
     }
 
     // --- [ SQLDisconnect ] ---
@@ -3312,7 +3353,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPS(ConnectionHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPS(ConnectionHandle, __functionAddress));
     }
 
     // --- [ SQLFreeHandle ] ---
@@ -3330,7 +3372,8 @@ public class SQL {
         if (CHECKS) {
             check(Handle);
         }
-        return callPS(HandleType, Handle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPS(HandleType, Handle, __functionAddress));
     }
 
     // --- [ SQLCompleteAsync ] ---
@@ -3342,7 +3385,8 @@ public class SQL {
             check(__functionAddress);
             check(Handle);
         }
-        return callPPS(HandleType, Handle, AsyncRetCodePtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callPPS(HandleType, Handle, AsyncRetCodePtr, __functionAddress));
     }
 
     /**
@@ -3380,7 +3424,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPPS(StatementHandle, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, ColumnName, NameLength4, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPPPPPS(StatementHandle, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, ColumnName, NameLength4, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3395,7 +3440,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPS(StatementHandle, IdentifierType, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, Scope, Nullable, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPPPPS(StatementHandle, IdentifierType, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, Scope, Nullable, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3410,7 +3456,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPS(StatementHandle, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, Unique, Reserved, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callPPPPS(StatementHandle, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, Unique, Reserved, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3425,7 +3472,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPPS(StatementHandle, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, TableType, NameLength4, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callPPPPPS(StatementHandle, CatalogName, NameLength1, SchemaName, NameLength2, TableName, NameLength3, TableType, NameLength4, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3444,7 +3492,8 @@ public class SQL {
             check(EnvironmentHandle);
             check(ConnectionHandle);
         }
-        return callPPS(EnvironmentHandle, ConnectionHandle, CompletionType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, callPPS(EnvironmentHandle, ConnectionHandle, CompletionType, __functionAddress));
     }
 
     // --- [ SQLDriverConnect ] ---
@@ -3460,7 +3509,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPPPPS(ConnectionHandle, WindowHandle, InConnectionString, StringLength1, OutConnectionString, BufferLength, StringLength2Ptr, DriverCompletion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callPPPPPS(ConnectionHandle, WindowHandle, InConnectionString, StringLength1, OutConnectionString, BufferLength, StringLength2Ptr, DriverCompletion, __functionAddress));
     }
 
     /**
@@ -3571,7 +3621,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPPPS(ConnectionHandle, InConnectionString, StringLength1, OutConnectionString, BufferLength, StringLength2Ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPPS(ConnectionHandle, InConnectionString, StringLength1, OutConnectionString, BufferLength, StringLength2Ptr, __functionAddress));
     }
 
     /**
@@ -3650,7 +3701,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, Operation, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPS(StatementHandle, Operation, __functionAddress));
     }
 
     // --- [ SQLColumnPrivileges ] ---
@@ -3660,7 +3712,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szTableName, cchTableName, szColumnName, cchColumnName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szTableName, cchTableName, szColumnName, cchColumnName, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3676,7 +3729,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPPS(StatementHandle, ParameterNumber, DataTypePtr, ParameterSizePtr, DecimalDigitsPtr, NullablePtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, callPPPPPS(StatementHandle, ParameterNumber, DataTypePtr, ParameterSizePtr, DecimalDigitsPtr, NullablePtr, __functionAddress));
     }
 
     /**
@@ -3702,7 +3756,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPS(hstmt, fFetchType, irow, pcrow, rgfRowStatus, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, callPPPPS(hstmt, fFetchType, irow, pcrow, rgfRowStatus, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3721,7 +3776,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPPPPS(hstmt, szPkCatalogName, cchPkCatalogName, szPkSchemaName, cchPkSchemaName, szPkTableName, cchPkTableName, szFkCatalogName, cchFkCatalogName, szFkSchemaName, cchFkSchemaName, szFkTableName, cchFkTableName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, callPPPPPPPS(hstmt, szPkCatalogName, cchPkCatalogName, szPkSchemaName, cchPkSchemaName, szPkTableName, cchPkTableName, szFkCatalogName, cchFkCatalogName, szFkSchemaName, cchFkSchemaName, szFkTableName, cchFkTableName, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3743,7 +3799,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPS(StatementHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, callPS(StatementHandle, __functionAddress));
     }
 
     // --- [ SQLNativeSql ] ---
@@ -3754,7 +3811,8 @@ public class SQL {
         if (CHECKS) {
             check(ConnectionHandle);
         }
-        return callPPPPS(ConnectionHandle, InStatementText, TextLength1, OutStatementText, BufferLength, TextLength2Ptr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, callPPPPS(ConnectionHandle, InStatementText, TextLength1, OutStatementText, BufferLength, TextLength2Ptr, __functionAddress));
     }
 
     /**
@@ -3802,7 +3860,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPS(StatementHandle, ParameterCountPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, callPPS(StatementHandle, ParameterCountPtr, __functionAddress));
     }
 
     /**
@@ -3825,7 +3884,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPS(hstmt, crow, pirow, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, callPPPS(hstmt, crow, pirow, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3843,7 +3903,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szTableName, cchTableName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, callPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szTableName, cchTableName, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3858,7 +3919,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szProcName, cchProcName, szColumnName, cchColumnName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, callPPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szProcName, cchProcName, szColumnName, cchColumnName, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3873,7 +3935,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szProcName, cchProcName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, callPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szProcName, cchProcName, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3897,7 +3960,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPJS(StatementHandle, RowNumber, Operation, LockType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callPJS(StatementHandle, RowNumber, Operation, LockType, __functionAddress));
     }
 
     // --- [ SQLTablePrivileges ] ---
@@ -3907,7 +3971,8 @@ public class SQL {
         if (CHECKS) {
             check(hstmt);
         }
-        return callPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szTableName, cchTableName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, callPPPPS(hstmt, szCatalogName, cchCatalogName, szSchemaName, cchSchemaName, szTableName, cchTableName, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -3924,7 +3989,8 @@ public class SQL {
             check(__functionAddress);
             check(EnvironmentHandle);
         }
-        return callPPPPPS(EnvironmentHandle, Direction, DriverDescription, BufferLength1, DescriptionLengthPtr, DriverAttributes, BufferLength2, AttributesLengthPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, callPPPPPS(EnvironmentHandle, Direction, DriverDescription, BufferLength1, DescriptionLengthPtr, DriverAttributes, BufferLength2, AttributesLengthPtr, __functionAddress));
     }
 
     /**
@@ -3949,7 +4015,8 @@ public class SQL {
         if (CHECKS) {
             check(StatementHandle);
         }
-        return callPPPPPS(StatementHandle, ParameterNumber, InputOutputType, ValueType, ParameterType, ColumnSize, DecimalDigits, ParameterValuePtr, BufferLength, StrLen_or_IndPtr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, callPPPPPS(StatementHandle, ParameterNumber, InputOutputType, ValueType, ParameterType, ColumnSize, DecimalDigits, ParameterValuePtr, BufferLength, StrLen_or_IndPtr, __functionAddress));
     }
 
     /**
@@ -3974,7 +4041,8 @@ public class SQL {
             check(__functionAddress);
             check(hInput);
         }
-        return callPPS(fHandleType, hInput, phOutput, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, callPPS(fHandleType, hInput, phOutput, __functionAddress));
     }
 
     @NativeType("SQLRETURN")
@@ -542,6 +542,24 @@ public class SQLPERF extends Struct implements NativeResource {
         return wrap(SQLPERF.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQLPERF} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQLPERF malloc(MemoryArena arena) {
+        return wrap(SQLPERF.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQLPERF} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQLPERF calloc(MemoryArena arena) {
+        return wrap(SQLPERF.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQLPERF.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -580,6 +598,26 @@ public class SQLPERF extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQLPERF.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQLPERF.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQLPERF.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQLPERF.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #TimerResolution}. */
@@ -921,6 +959,272 @@ public class SQLPERF extends Struct implements NativeResource {
         /** Sets the specified value to the {@code msNetWorkServerTime} field. */
         public SQLPERF.Buffer msNetWorkServerTime(@NativeType("DWORD") int value) { SQLPERF.nmsNetWorkServerTime(address(), value); return this; }
 
+        /** Copies the {@code TimerResolution} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getTimerResolution(int[] dst) { gather(SQLPERF.TIMERRESOLUTION, dst); return this; }
+        /** Copies the {@code TimerResolution} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getTimerResolution(IntBuffer dst) { gather(SQLPERF.TIMERRESOLUTION, dst); return this; }
+        /** Copies the {@code SQLidu} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLidu(int[] dst) { gather(SQLPERF.SQLIDU, dst); return this; }
+        /** Copies the {@code SQLidu} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLidu(IntBuffer dst) { gather(SQLPERF.SQLIDU, dst); return this; }
+        /** Copies the {@code SQLiduRows} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLiduRows(int[] dst) { gather(SQLPERF.SQLIDUROWS, dst); return this; }
+        /** Copies the {@code SQLiduRows} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLiduRows(IntBuffer dst) { gather(SQLPERF.SQLIDUROWS, dst); return this; }
+        /** Copies the {@code SQLSelects} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLSelects(int[] dst) { gather(SQLPERF.SQLSELECTS, dst); return this; }
+        /** Copies the {@code SQLSelects} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLSelects(IntBuffer dst) { gather(SQLPERF.SQLSELECTS, dst); return this; }
+        /** Copies the {@code SQLSelectRows} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLSelectRows(int[] dst) { gather(SQLPERF.SQLSELECTROWS, dst); return this; }
+        /** Copies the {@code SQLSelectRows} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLSelectRows(IntBuffer dst) { gather(SQLPERF.SQLSELECTROWS, dst); return this; }
+        /** Copies the {@code Transactions} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getTransactions(int[] dst) { gather(SQLPERF.TRANSACTIONS, dst); return this; }
+        /** Copies the {@code Transactions} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getTransactions(IntBuffer dst) { gather(SQLPERF.TRANSACTIONS, dst); return this; }
+        /** Copies the {@code SQLPrepares} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLPrepares(int[] dst) { gather(SQLPERF.SQLPREPARES, dst); return this; }
+        /** Copies the {@code SQLPrepares} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLPrepares(IntBuffer dst) { gather(SQLPERF.SQLPREPARES, dst); return this; }
+        /** Copies the {@code ExecDirects} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getExecDirects(int[] dst) { gather(SQLPERF.EXECDIRECTS, dst); return this; }
+        /** Copies the {@code ExecDirects} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getExecDirects(IntBuffer dst) { gather(SQLPERF.EXECDIRECTS, dst); return this; }
+        /** Copies the {@code SQLExecutes} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLExecutes(int[] dst) { gather(SQLPERF.SQLEXECUTES, dst); return this; }
+        /** Copies the {@code SQLExecutes} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLExecutes(IntBuffer dst) { gather(SQLPERF.SQLEXECUTES, dst); return this; }
+        /** Copies the {@code CursorOpens} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getCursorOpens(int[] dst) { gather(SQLPERF.CURSOROPENS, dst); return this; }
+        /** Copies the {@code CursorOpens} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getCursorOpens(IntBuffer dst) { gather(SQLPERF.CURSOROPENS, dst); return this; }
+        /** Copies the {@code CursorSize} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getCursorSize(int[] dst) { gather(SQLPERF.CURSORSIZE, dst); return this; }
+        /** Copies the {@code CursorSize} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getCursorSize(IntBuffer dst) { gather(SQLPERF.CURSORSIZE, dst); return this; }
+        /** Copies the {@code CursorUsed} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getCursorUsed(int[] dst) { gather(SQLPERF.CURSORUSED, dst); return this; }
+        /** Copies the {@code CursorUsed} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getCursorUsed(IntBuffer dst) { gather(SQLPERF.CURSORUSED, dst); return this; }
+        /** Copies the {@code PercentCursorUsed} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getPercentCursorUsed(double[] dst) { gather(SQLPERF.PERCENTCURSORUSED, dst); return this; }
+        /** Copies the {@code PercentCursorUsed} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getPercentCursorUsed(DoubleBuffer dst) { gather(SQLPERF.PERCENTCURSORUSED, dst); return this; }
+        /** Copies the {@code AvgFetchTime} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getAvgFetchTime(double[] dst) { gather(SQLPERF.AVGFETCHTIME, dst); return this; }
+        /** Copies the {@code AvgFetchTime} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getAvgFetchTime(DoubleBuffer dst) { gather(SQLPERF.AVGFETCHTIME, dst); return this; }
+        /** Copies the {@code AvgCursorSize} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getAvgCursorSize(double[] dst) { gather(SQLPERF.AVGCURSORSIZE, dst); return this; }
+        /** Copies the {@code AvgCursorSize} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getAvgCursorSize(DoubleBuffer dst) { gather(SQLPERF.AVGCURSORSIZE, dst); return this; }
+        /** Copies the {@code AvgCursorUsed} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getAvgCursorUsed(double[] dst) { gather(SQLPERF.AVGCURSORUSED, dst); return this; }
+        /** Copies the {@code AvgCursorUsed} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getAvgCursorUsed(DoubleBuffer dst) { gather(SQLPERF.AVGCURSORUSED, dst); return this; }
+        /** Copies the {@code SQLFetchTime} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLFetchTime(int[] dst) { gather(SQLPERF.SQLFETCHTIME, dst); return this; }
+        /** Copies the {@code SQLFetchTime} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLFetchTime(IntBuffer dst) { gather(SQLPERF.SQLFETCHTIME, dst); return this; }
+        /** Copies the {@code SQLFetchCount} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSQLFetchCount(int[] dst) { gather(SQLPERF.SQLFETCHCOUNT, dst); return this; }
+        /** Copies the {@code SQLFetchCount} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSQLFetchCount(IntBuffer dst) { gather(SQLPERF.SQLFETCHCOUNT, dst); return this; }
+        /** Copies the {@code CurrentStmtCount} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getCurrentStmtCount(int[] dst) { gather(SQLPERF.CURRENTSTMTCOUNT, dst); return this; }
+        /** Copies the {@code CurrentStmtCount} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getCurrentStmtCount(IntBuffer dst) { gather(SQLPERF.CURRENTSTMTCOUNT, dst); return this; }
+        /** Copies the {@code MaxOpenStmt} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getMaxOpenStmt(int[] dst) { gather(SQLPERF.MAXOPENSTMT, dst); return this; }
+        /** Copies the {@code MaxOpenStmt} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getMaxOpenStmt(IntBuffer dst) { gather(SQLPERF.MAXOPENSTMT, dst); return this; }
+        /** Copies the {@code SumOpenStmt} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSumOpenStmt(int[] dst) { gather(SQLPERF.SUMOPENSTMT, dst); return this; }
+        /** Copies the {@code SumOpenStmt} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSumOpenStmt(IntBuffer dst) { gather(SQLPERF.SUMOPENSTMT, dst); return this; }
+        /** Copies the {@code CurrentConnectionCount} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getCurrentConnectionCount(int[] dst) { gather(SQLPERF.CURRENTCONNECTIONCOUNT, dst); return this; }
+        /** Copies the {@code CurrentConnectionCount} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getCurrentConnectionCount(IntBuffer dst) { gather(SQLPERF.CURRENTCONNECTIONCOUNT, dst); return this; }
+        /** Copies the {@code MaxConnectionsOpened} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getMaxConnectionsOpened(int[] dst) { gather(SQLPERF.MAXCONNECTIONSOPENED, dst); return this; }
+        /** Copies the {@code MaxConnectionsOpened} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getMaxConnectionsOpened(IntBuffer dst) { gather(SQLPERF.MAXCONNECTIONSOPENED, dst); return this; }
+        /** Copies the {@code SumConnectionsOpened} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSumConnectionsOpened(int[] dst) { gather(SQLPERF.SUMCONNECTIONSOPENED, dst); return this; }
+        /** Copies the {@code SumConnectionsOpened} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSumConnectionsOpened(IntBuffer dst) { gather(SQLPERF.SUMCONNECTIONSOPENED, dst); return this; }
+        /** Copies the {@code SumConnectiontime} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getSumConnectiontime(int[] dst) { gather(SQLPERF.SUMCONNECTIONTIME, dst); return this; }
+        /** Copies the {@code SumConnectiontime} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getSumConnectiontime(IntBuffer dst) { gather(SQLPERF.SUMCONNECTIONTIME, dst); return this; }
+        /** Copies the {@code AvgTimeOpened} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getAvgTimeOpened(double[] dst) { gather(SQLPERF.AVGTIMEOPENED, dst); return this; }
+        /** Copies the {@code AvgTimeOpened} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getAvgTimeOpened(DoubleBuffer dst) { gather(SQLPERF.AVGTIMEOPENED, dst); return this; }
+        /** Copies the {@code ServerRndTrips} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getServerRndTrips(int[] dst) { gather(SQLPERF.SERVERRNDTRIPS, dst); return this; }
+        /** Copies the {@code ServerRndTrips} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getServerRndTrips(IntBuffer dst) { gather(SQLPERF.SERVERRNDTRIPS, dst); return this; }
+        /** Copies the {@code BuffersSent} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getBuffersSent(int[] dst) { gather(SQLPERF.BUFFERSSENT, dst); return this; }
+        /** Copies the {@code BuffersSent} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getBuffersSent(IntBuffer dst) { gather(SQLPERF.BUFFERSSENT, dst); return this; }
+        /** Copies the {@code BuffersRec} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getBuffersRec(int[] dst) { gather(SQLPERF.BUFFERSREC, dst); return this; }
+        /** Copies the {@code BuffersRec} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getBuffersRec(IntBuffer dst) { gather(SQLPERF.BUFFERSREC, dst); return this; }
+        /** Copies the {@code BytesSent} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getBytesSent(int[] dst) { gather(SQLPERF.BYTESSENT, dst); return this; }
+        /** Copies the {@code BytesSent} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getBytesSent(IntBuffer dst) { gather(SQLPERF.BYTESSENT, dst); return this; }
+        /** Copies the {@code BytesRec} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getBytesRec(int[] dst) { gather(SQLPERF.BYTESREC, dst); return this; }
+        /** Copies the {@code BytesRec} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getBytesRec(IntBuffer dst) { gather(SQLPERF.BYTESREC, dst); return this; }
+        /** Copies the {@code msExecutionTime} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getMsExecutionTime(int[] dst) { gather(SQLPERF.MSEXECUTIONTIME, dst); return this; }
+        /** Copies the {@code msExecutionTime} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getMsExecutionTime(IntBuffer dst) { gather(SQLPERF.MSEXECUTIONTIME, dst); return this; }
+        /** Copies the {@code msNetWorkServerTime} field of the structs between the current position and limit to the specified array. */
+        public SQLPERF.Buffer getMsNetWorkServerTime(int[] dst) { gather(SQLPERF.MSNETWORKSERVERTIME, dst); return this; }
+        /** Copies the {@code msNetWorkServerTime} field of the structs between the current position and limit to the specified buffer. */
+        public SQLPERF.Buffer getMsNetWorkServerTime(IntBuffer dst) { gather(SQLPERF.MSNETWORKSERVERTIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code TimerResolution} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putTimerResolution(int[] src) { scatter(SQLPERF.TIMERRESOLUTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code TimerResolution} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putTimerResolution(IntBuffer src) { scatter(SQLPERF.TIMERRESOLUTION, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLidu} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLidu(int[] src) { scatter(SQLPERF.SQLIDU, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLidu} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLidu(IntBuffer src) { scatter(SQLPERF.SQLIDU, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLiduRows} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLiduRows(int[] src) { scatter(SQLPERF.SQLIDUROWS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLiduRows} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLiduRows(IntBuffer src) { scatter(SQLPERF.SQLIDUROWS, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLSelects} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLSelects(int[] src) { scatter(SQLPERF.SQLSELECTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLSelects} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLSelects(IntBuffer src) { scatter(SQLPERF.SQLSELECTS, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLSelectRows} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLSelectRows(int[] src) { scatter(SQLPERF.SQLSELECTROWS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLSelectRows} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLSelectRows(IntBuffer src) { scatter(SQLPERF.SQLSELECTROWS, src); return this; }
+        /** Copies the values in the specified array to the {@code Transactions} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putTransactions(int[] src) { scatter(SQLPERF.TRANSACTIONS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Transactions} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putTransactions(IntBuffer src) { scatter(SQLPERF.TRANSACTIONS, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLPrepares} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLPrepares(int[] src) { scatter(SQLPERF.SQLPREPARES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLPrepares} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLPrepares(IntBuffer src) { scatter(SQLPERF.SQLPREPARES, src); return this; }
+        /** Copies the values in the specified array to the {@code ExecDirects} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putExecDirects(int[] src) { scatter(SQLPERF.EXECDIRECTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ExecDirects} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putExecDirects(IntBuffer src) { scatter(SQLPERF.EXECDIRECTS, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLExecutes} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLExecutes(int[] src) { scatter(SQLPERF.SQLEXECUTES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLExecutes} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLExecutes(IntBuffer src) { scatter(SQLPERF.SQLEXECUTES, src); return this; }
+        /** Copies the values in the specified array to the {@code CursorOpens} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCursorOpens(int[] src) { scatter(SQLPERF.CURSOROPENS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CursorOpens} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCursorOpens(IntBuffer src) { scatter(SQLPERF.CURSOROPENS, src); return this; }
+        /** Copies the values in the specified array to the {@code CursorSize} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCursorSize(int[] src) { scatter(SQLPERF.CURSORSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CursorSize} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCursorSize(IntBuffer src) { scatter(SQLPERF.CURSORSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code CursorUsed} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCursorUsed(int[] src) { scatter(SQLPERF.CURSORUSED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CursorUsed} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCursorUsed(IntBuffer src) { scatter(SQLPERF.CURSORUSED, src); return this; }
+        /** Copies the values in the specified array to the {@code PercentCursorUsed} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putPercentCursorUsed(double[] src) { scatter(SQLPERF.PERCENTCURSORUSED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code PercentCursorUsed} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putPercentCursorUsed(DoubleBuffer src) { scatter(SQLPERF.PERCENTCURSORUSED, src); return this; }
+        /** Copies the values in the specified array to the {@code AvgFetchTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgFetchTime(double[] src) { scatter(SQLPERF.AVGFETCHTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AvgFetchTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgFetchTime(DoubleBuffer src) { scatter(SQLPERF.AVGFETCHTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code AvgCursorSize} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgCursorSize(double[] src) { scatter(SQLPERF.AVGCURSORSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AvgCursorSize} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgCursorSize(DoubleBuffer src) { scatter(SQLPERF.AVGCURSORSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code AvgCursorUsed} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgCursorUsed(double[] src) { scatter(SQLPERF.AVGCURSORUSED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AvgCursorUsed} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgCursorUsed(DoubleBuffer src) { scatter(SQLPERF.AVGCURSORUSED, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLFetchTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLFetchTime(int[] src) { scatter(SQLPERF.SQLFETCHTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLFetchTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLFetchTime(IntBuffer src) { scatter(SQLPERF.SQLFETCHTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code SQLFetchCount} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLFetchCount(int[] src) { scatter(SQLPERF.SQLFETCHCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SQLFetchCount} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSQLFetchCount(IntBuffer src) { scatter(SQLPERF.SQLFETCHCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code CurrentStmtCount} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCurrentStmtCount(int[] src) { scatter(SQLPERF.CURRENTSTMTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CurrentStmtCount} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCurrentStmtCount(IntBuffer src) { scatter(SQLPERF.CURRENTSTMTCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code MaxOpenStmt} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMaxOpenStmt(int[] src) { scatter(SQLPERF.MAXOPENSTMT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code MaxOpenStmt} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMaxOpenStmt(IntBuffer src) { scatter(SQLPERF.MAXOPENSTMT, src); return this; }
+        /** Copies the values in the specified array to the {@code SumOpenStmt} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSumOpenStmt(int[] src) { scatter(SQLPERF.SUMOPENSTMT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SumOpenStmt} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSumOpenStmt(IntBuffer src) { scatter(SQLPERF.SUMOPENSTMT, src); return this; }
+        /** Copies the values in the specified array to the {@code CurrentConnectionCount} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCurrentConnectionCount(int[] src) { scatter(SQLPERF.CURRENTCONNECTIONCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CurrentConnectionCount} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putCurrentConnectionCount(IntBuffer src) { scatter(SQLPERF.CURRENTCONNECTIONCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code MaxConnectionsOpened} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMaxConnectionsOpened(int[] src) { scatter(SQLPERF.MAXCONNECTIONSOPENED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code MaxConnectionsOpened} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMaxConnectionsOpened(IntBuffer src) { scatter(SQLPERF.MAXCONNECTIONSOPENED, src); return this; }
+        /** Copies the values in the specified array to the {@code SumConnectionsOpened} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSumConnectionsOpened(int[] src) { scatter(SQLPERF.SUMCONNECTIONSOPENED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SumConnectionsOpened} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSumConnectionsOpened(IntBuffer src) { scatter(SQLPERF.SUMCONNECTIONSOPENED, src); return this; }
+        /** Copies the values in the specified array to the {@code SumConnectiontime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSumConnectiontime(int[] src) { scatter(SQLPERF.SUMCONNECTIONTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SumConnectiontime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putSumConnectiontime(IntBuffer src) { scatter(SQLPERF.SUMCONNECTIONTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code AvgTimeOpened} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgTimeOpened(double[] src) { scatter(SQLPERF.AVGTIMEOPENED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AvgTimeOpened} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putAvgTimeOpened(DoubleBuffer src) { scatter(SQLPERF.AVGTIMEOPENED, src); return this; }
+        /** Copies the values in the specified array to the {@code ServerRndTrips} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putServerRndTrips(int[] src) { scatter(SQLPERF.SERVERRNDTRIPS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ServerRndTrips} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putServerRndTrips(IntBuffer src) { scatter(SQLPERF.SERVERRNDTRIPS, src); return this; }
+        /** Copies the values in the specified array to the {@code BuffersSent} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBuffersSent(int[] src) { scatter(SQLPERF.BUFFERSSENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code BuffersSent} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBuffersSent(IntBuffer src) { scatter(SQLPERF.BUFFERSSENT, src); return this; }
+        /** Copies the values in the specified array to the {@code BuffersRec} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBuffersRec(int[] src) { scatter(SQLPERF.BUFFERSREC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code BuffersRec} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBuffersRec(IntBuffer src) { scatter(SQLPERF.BUFFERSREC, src); return this; }
+        /** Copies the values in the specified array to the {@code BytesSent} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBytesSent(int[] src) { scatter(SQLPERF.BYTESSENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code BytesSent} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBytesSent(IntBuffer src) { scatter(SQLPERF.BYTESSENT, src); return this; }
+        /** Copies the values in the specified array to the {@code BytesRec} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBytesRec(int[] src) { scatter(SQLPERF.BYTESREC, src); return this; }
+        /** Copies the values in the specified buffer to the {@code BytesRec} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putBytesRec(IntBuffer src) { scatter(SQLPERF.BYTESREC, src); return this; }
+        /** Copies the values in the specified array to the {@code msExecutionTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMsExecutionTime(int[] src) { scatter(SQLPERF.MSEXECUTIONTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code msExecutionTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMsExecutionTime(IntBuffer src) { scatter(SQLPERF.MSEXECUTIONTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code msNetWorkServerTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMsNetWorkServerTime(int[] src) { scatter(SQLPERF.MSNETWORKSERVERTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code msNetWorkServerTime} field of the structs between the current position and limit. */
+        public SQLPERF.Buffer putMsNetWorkServerTime(IntBuffer src) { scatter(SQLPERF.MSNETWORKSERVERTIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -212,6 +212,24 @@ public class SQL_DATE_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_DATE_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_DATE_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_DATE_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_DATE_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_DATE_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_DATE_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_DATE_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_DATE_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -250,6 +268,26 @@ public class SQL_DATE_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_DATE_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_DATE_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_DATE_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_DATE_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #year}. */
@@ -321,6 +359,32 @@ public class SQL_DATE_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code day} field. */
         public SQL_DATE_STRUCT.Buffer day(@NativeType("SQLUSMALLINT") short value) { SQL_DATE_STRUCT.nday(address(), value); return this; }
 
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified array. */
+        public SQL_DATE_STRUCT.Buffer getYear(short[] dst) { gather(SQL_DATE_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DATE_STRUCT.Buffer getYear(ShortBuffer dst) { gather(SQL_DATE_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified array. */
+        public SQL_DATE_STRUCT.Buffer getMonth(short[] dst) { gather(SQL_DATE_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DATE_STRUCT.Buffer getMonth(ShortBuffer dst) { gather(SQL_DATE_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified array. */
+        public SQL_DATE_STRUCT.Buffer getDay(short[] dst) { gather(SQL_DATE_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DATE_STRUCT.Buffer getDay(ShortBuffer dst) { gather(SQL_DATE_STRUCT.DAY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code year} field of the structs between the current position and limit. */
+        public SQL_DATE_STRUCT.Buffer putYear(short[] src) { scatter(SQL_DATE_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code year} field of the structs between the current position and limit. */
+        public SQL_DATE_STRUCT.Buffer putYear(ShortBuffer src) { scatter(SQL_DATE_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified array to the {@code month} field of the structs between the current position and limit. */
+        public SQL_DATE_STRUCT.Buffer putMonth(short[] src) { scatter(SQL_DATE_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code month} field of the structs between the current position and limit. */
+        public SQL_DATE_STRUCT.Buffer putMonth(ShortBuffer src) { scatter(SQL_DATE_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified array to the {@code day} field of the structs between the current position and limit. */
+        public SQL_DATE_STRUCT.Buffer putDay(short[] src) { scatter(SQL_DATE_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code day} field of the structs between the current position and limit. */
+        public SQL_DATE_STRUCT.Buffer putDay(ShortBuffer src) { scatter(SQL_DATE_STRUCT.DAY, src); return this; }
+
     }
 
 }
\ No newline at end of file
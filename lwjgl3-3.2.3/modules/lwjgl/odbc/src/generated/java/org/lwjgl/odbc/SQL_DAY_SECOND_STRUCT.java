@@ -234,6 +234,24 @@ public class SQL_DAY_SECOND_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_DAY_SECOND_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_DAY_SECOND_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_DAY_SECOND_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_DAY_SECOND_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_DAY_SECOND_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_DAY_SECOND_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_DAY_SECOND_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_DAY_SECOND_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class SQL_DAY_SECOND_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_DAY_SECOND_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_DAY_SECOND_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_DAY_SECOND_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_DAY_SECOND_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #day}. */
@@ -361,6 +399,48 @@ public class SQL_DAY_SECOND_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code fraction} field. */
         public SQL_DAY_SECOND_STRUCT.Buffer fraction(@NativeType("SQLUINTEGER") int value) { SQL_DAY_SECOND_STRUCT.nfraction(address(), value); return this; }
 
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified array. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getDay(int[] dst) { gather(SQL_DAY_SECOND_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getDay(IntBuffer dst) { gather(SQL_DAY_SECOND_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified array. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getHour(int[] dst) { gather(SQL_DAY_SECOND_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getHour(IntBuffer dst) { gather(SQL_DAY_SECOND_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified array. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getMinute(int[] dst) { gather(SQL_DAY_SECOND_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getMinute(IntBuffer dst) { gather(SQL_DAY_SECOND_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified array. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getSecond(int[] dst) { gather(SQL_DAY_SECOND_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getSecond(IntBuffer dst) { gather(SQL_DAY_SECOND_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified array. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getFraction(int[] dst) { gather(SQL_DAY_SECOND_STRUCT.FRACTION, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_DAY_SECOND_STRUCT.Buffer getFraction(IntBuffer dst) { gather(SQL_DAY_SECOND_STRUCT.FRACTION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code day} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putDay(int[] src) { scatter(SQL_DAY_SECOND_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code day} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putDay(IntBuffer src) { scatter(SQL_DAY_SECOND_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified array to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putHour(int[] src) { scatter(SQL_DAY_SECOND_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putHour(IntBuffer src) { scatter(SQL_DAY_SECOND_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified array to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putMinute(int[] src) { scatter(SQL_DAY_SECOND_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putMinute(IntBuffer src) { scatter(SQL_DAY_SECOND_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified array to the {@code second} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putSecond(int[] src) { scatter(SQL_DAY_SECOND_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code second} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putSecond(IntBuffer src) { scatter(SQL_DAY_SECOND_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified array to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putFraction(int[] src) { scatter(SQL_DAY_SECOND_STRUCT.FRACTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_DAY_SECOND_STRUCT.Buffer putFraction(IntBuffer src) { scatter(SQL_DAY_SECOND_STRUCT.FRACTION, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -231,6 +231,24 @@ public class SQL_INTERVAL_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_INTERVAL_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_INTERVAL_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_INTERVAL_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_INTERVAL_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_INTERVAL_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_INTERVAL_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_INTERVAL_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_INTERVAL_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class SQL_INTERVAL_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_INTERVAL_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_INTERVAL_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_INTERVAL_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_INTERVAL_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #interval_type}. */
@@ -351,6 +389,24 @@ public class SQL_INTERVAL_STRUCT extends Struct implements NativeResource {
         /** Passes the {@code intval.day_second} field to the specified {@link java.util.function.Consumer Consumer}. */
         public SQL_INTERVAL_STRUCT.Buffer intval_day_second(java.util.function.Consumer<SQL_DAY_SECOND_STRUCT> consumer) { consumer.accept(intval_day_second()); return this; }
 
+        /** Copies the {@code interval_type} field of the structs between the current position and limit to the specified array. */
+        public SQL_INTERVAL_STRUCT.Buffer getInterval_type(int[] dst) { gather(SQL_INTERVAL_STRUCT.INTERVAL_TYPE, dst); return this; }
+        /** Copies the {@code interval_type} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_INTERVAL_STRUCT.Buffer getInterval_type(IntBuffer dst) { gather(SQL_INTERVAL_STRUCT.INTERVAL_TYPE, dst); return this; }
+        /** Copies the {@code interval_sign} field of the structs between the current position and limit to the specified array. */
+        public SQL_INTERVAL_STRUCT.Buffer getInterval_sign(short[] dst) { gather(SQL_INTERVAL_STRUCT.INTERVAL_SIGN, dst); return this; }
+        /** Copies the {@code interval_sign} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_INTERVAL_STRUCT.Buffer getInterval_sign(ShortBuffer dst) { gather(SQL_INTERVAL_STRUCT.INTERVAL_SIGN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code interval_type} field of the structs between the current position and limit. */
+        public SQL_INTERVAL_STRUCT.Buffer putInterval_type(int[] src) { scatter(SQL_INTERVAL_STRUCT.INTERVAL_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code interval_type} field of the structs between the current position and limit. */
+        public SQL_INTERVAL_STRUCT.Buffer putInterval_type(IntBuffer src) { scatter(SQL_INTERVAL_STRUCT.INTERVAL_TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code interval_sign} field of the structs between the current position and limit. */
+        public SQL_INTERVAL_STRUCT.Buffer putInterval_sign(short[] src) { scatter(SQL_INTERVAL_STRUCT.INTERVAL_SIGN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code interval_sign} field of the structs between the current position and limit. */
+        public SQL_INTERVAL_STRUCT.Buffer putInterval_sign(ShortBuffer src) { scatter(SQL_INTERVAL_STRUCT.INTERVAL_SIGN, src); return this; }
+
     }
 
 }
\ No newline at end of file
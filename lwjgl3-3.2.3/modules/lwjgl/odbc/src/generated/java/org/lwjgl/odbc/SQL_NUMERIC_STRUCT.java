@@ -231,6 +231,24 @@ public class SQL_NUMERIC_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_NUMERIC_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_NUMERIC_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_NUMERIC_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_NUMERIC_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_NUMERIC_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_NUMERIC_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_NUMERIC_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_NUMERIC_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class SQL_NUMERIC_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_NUMERIC_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_NUMERIC_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_NUMERIC_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_NUMERIC_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #precision}. */
@@ -365,6 +403,32 @@ public class SQL_NUMERIC_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code val} field. */
         public SQL_NUMERIC_STRUCT.Buffer val(int index, @NativeType("SQLCHAR") byte value) { SQL_NUMERIC_STRUCT.nval(address(), index, value); return this; }
 
+        /** Copies the {@code precision} field of the structs between the current position and limit to the specified array. */
+        public SQL_NUMERIC_STRUCT.Buffer getPrecision(byte[] dst) { gather(SQL_NUMERIC_STRUCT.PRECISION, dst); return this; }
+        /** Copies the {@code precision} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_NUMERIC_STRUCT.Buffer getPrecision(ByteBuffer dst) { gather(SQL_NUMERIC_STRUCT.PRECISION, dst); return this; }
+        /** Copies the {@code scale} field of the structs between the current position and limit to the specified array. */
+        public SQL_NUMERIC_STRUCT.Buffer getScale(byte[] dst) { gather(SQL_NUMERIC_STRUCT.SCALE, dst); return this; }
+        /** Copies the {@code scale} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_NUMERIC_STRUCT.Buffer getScale(ByteBuffer dst) { gather(SQL_NUMERIC_STRUCT.SCALE, dst); return this; }
+        /** Copies the {@code sign} field of the structs between the current position and limit to the specified array. */
+        public SQL_NUMERIC_STRUCT.Buffer getSign(byte[] dst) { gather(SQL_NUMERIC_STRUCT.SIGN, dst); return this; }
+        /** Copies the {@code sign} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_NUMERIC_STRUCT.Buffer getSign(ByteBuffer dst) { gather(SQL_NUMERIC_STRUCT.SIGN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code precision} field of the structs between the current position and limit. */
+        public SQL_NUMERIC_STRUCT.Buffer putPrecision(byte[] src) { scatter(SQL_NUMERIC_STRUCT.PRECISION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code precision} field of the structs between the current position and limit. */
+        public SQL_NUMERIC_STRUCT.Buffer putPrecision(ByteBuffer src) { scatter(SQL_NUMERIC_STRUCT.PRECISION, src); return this; }
+        /** Copies the values in the specified array to the {@code scale} field of the structs between the current position and limit. */
+        public SQL_NUMERIC_STRUCT.Buffer putScale(byte[] src) { scatter(SQL_NUMERIC_STRUCT.SCALE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code scale} field of the structs between the current position and limit. */
+        public SQL_NUMERIC_STRUCT.Buffer putScale(ByteBuffer src) { scatter(SQL_NUMERIC_STRUCT.SCALE, src); return this; }
+        /** Copies the values in the specified array to the {@code sign} field of the structs between the current position and limit. */
+        public SQL_NUMERIC_STRUCT.Buffer putSign(byte[] src) { scatter(SQL_NUMERIC_STRUCT.SIGN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sign} field of the structs between the current position and limit. */
+        public SQL_NUMERIC_STRUCT.Buffer putSign(ByteBuffer src) { scatter(SQL_NUMERIC_STRUCT.SIGN, src); return this; }
+
     }
 
 }
\ No newline at end of file
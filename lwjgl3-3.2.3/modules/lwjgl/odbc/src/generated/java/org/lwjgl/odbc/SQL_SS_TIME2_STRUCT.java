@@ -223,6 +223,24 @@ public class SQL_SS_TIME2_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_SS_TIME2_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_SS_TIME2_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_SS_TIME2_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_SS_TIME2_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_SS_TIME2_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_SS_TIME2_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_SS_TIME2_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_SS_TIME2_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -261,6 +279,26 @@ public class SQL_SS_TIME2_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_SS_TIME2_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_SS_TIME2_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_SS_TIME2_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_SS_TIME2_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #hour}. */
@@ -341,6 +379,40 @@ public class SQL_SS_TIME2_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code fraction} field. */
         public SQL_SS_TIME2_STRUCT.Buffer fraction(@NativeType("SQLUINTEGER") int value) { SQL_SS_TIME2_STRUCT.nfraction(address(), value); return this; }
 
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIME2_STRUCT.Buffer getHour(short[] dst) { gather(SQL_SS_TIME2_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIME2_STRUCT.Buffer getHour(ShortBuffer dst) { gather(SQL_SS_TIME2_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIME2_STRUCT.Buffer getMinute(short[] dst) { gather(SQL_SS_TIME2_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIME2_STRUCT.Buffer getMinute(ShortBuffer dst) { gather(SQL_SS_TIME2_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIME2_STRUCT.Buffer getSecond(short[] dst) { gather(SQL_SS_TIME2_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIME2_STRUCT.Buffer getSecond(ShortBuffer dst) { gather(SQL_SS_TIME2_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIME2_STRUCT.Buffer getFraction(int[] dst) { gather(SQL_SS_TIME2_STRUCT.FRACTION, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIME2_STRUCT.Buffer getFraction(IntBuffer dst) { gather(SQL_SS_TIME2_STRUCT.FRACTION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putHour(short[] src) { scatter(SQL_SS_TIME2_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putHour(ShortBuffer src) { scatter(SQL_SS_TIME2_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified array to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putMinute(short[] src) { scatter(SQL_SS_TIME2_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putMinute(ShortBuffer src) { scatter(SQL_SS_TIME2_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified array to the {@code second} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putSecond(short[] src) { scatter(SQL_SS_TIME2_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code second} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putSecond(ShortBuffer src) { scatter(SQL_SS_TIME2_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified array to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putFraction(int[] src) { scatter(SQL_SS_TIME2_STRUCT.FRACTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_SS_TIME2_STRUCT.Buffer putFraction(IntBuffer src) { scatter(SQL_SS_TIME2_STRUCT.FRACTION, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -278,6 +278,24 @@ public class SQL_SS_TIMESTAMPOFFSET_STRUCT extends Struct implements NativeResou
         return wrap(SQL_SS_TIMESTAMPOFFSET_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_SS_TIMESTAMPOFFSET_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_SS_TIMESTAMPOFFSET_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_SS_TIMESTAMPOFFSET_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_SS_TIMESTAMPOFFSET_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_SS_TIMESTAMPOFFSET_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_SS_TIMESTAMPOFFSET_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -316,6 +334,26 @@ public class SQL_SS_TIMESTAMPOFFSET_STRUCT extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #year}. */
@@ -441,6 +479,80 @@ public class SQL_SS_TIMESTAMPOFFSET_STRUCT extends Struct implements NativeResou
         /** Sets the specified value to the {@code timezone_minute} field. */
         public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer timezone_minute(@NativeType("SQLSMALLINT") short value) { SQL_SS_TIMESTAMPOFFSET_STRUCT.ntimezone_minute(address(), value); return this; }
 
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getYear(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getYear(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getMonth(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getMonth(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getDay(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getDay(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getHour(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getHour(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getMinute(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getMinute(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getSecond(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getSecond(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getFraction(int[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.FRACTION, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getFraction(IntBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.FRACTION, dst); return this; }
+        /** Copies the {@code timezone_hour} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getTimezone_hour(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_HOUR, dst); return this; }
+        /** Copies the {@code timezone_hour} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getTimezone_hour(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_HOUR, dst); return this; }
+        /** Copies the {@code timezone_minute} field of the structs between the current position and limit to the specified array. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getTimezone_minute(short[] dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_MINUTE, dst); return this; }
+        /** Copies the {@code timezone_minute} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer getTimezone_minute(ShortBuffer dst) { gather(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_MINUTE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code year} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putYear(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code year} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putYear(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified array to the {@code month} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putMonth(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code month} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putMonth(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified array to the {@code day} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putDay(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code day} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putDay(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified array to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putHour(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putHour(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified array to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putMinute(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putMinute(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified array to the {@code second} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putSecond(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code second} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putSecond(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified array to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putFraction(int[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.FRACTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putFraction(IntBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.FRACTION, src); return this; }
+        /** Copies the values in the specified array to the {@code timezone_hour} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putTimezone_hour(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_HOUR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code timezone_hour} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putTimezone_hour(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_HOUR, src); return this; }
+        /** Copies the values in the specified array to the {@code timezone_minute} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putTimezone_minute(short[] src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_MINUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code timezone_minute} field of the structs between the current position and limit. */
+        public SQL_SS_TIMESTAMPOFFSET_STRUCT.Buffer putTimezone_minute(ShortBuffer src) { scatter(SQL_SS_TIMESTAMPOFFSET_STRUCT.TIMEZONE_MINUTE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,24 @@ public class SQL_TIMESTAMP_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_TIMESTAMP_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_TIMESTAMP_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_TIMESTAMP_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_TIMESTAMP_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_TIMESTAMP_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_TIMESTAMP_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_TIMESTAMP_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_TIMESTAMP_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class SQL_TIMESTAMP_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_TIMESTAMP_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_TIMESTAMP_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_TIMESTAMP_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_TIMESTAMP_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #year}. */
@@ -401,6 +439,64 @@ public class SQL_TIMESTAMP_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code fraction} field. */
         public SQL_TIMESTAMP_STRUCT.Buffer fraction(@NativeType("SQLUINTEGER") int value) { SQL_TIMESTAMP_STRUCT.nfraction(address(), value); return this; }
 
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getYear(short[] dst) { gather(SQL_TIMESTAMP_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getYear(ShortBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getMonth(short[] dst) { gather(SQL_TIMESTAMP_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getMonth(ShortBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getDay(short[] dst) { gather(SQL_TIMESTAMP_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code day} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getDay(ShortBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.DAY, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getHour(short[] dst) { gather(SQL_TIMESTAMP_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getHour(ShortBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getMinute(short[] dst) { gather(SQL_TIMESTAMP_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getMinute(ShortBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getSecond(short[] dst) { gather(SQL_TIMESTAMP_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getSecond(ShortBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getFraction(int[] dst) { gather(SQL_TIMESTAMP_STRUCT.FRACTION, dst); return this; }
+        /** Copies the {@code fraction} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIMESTAMP_STRUCT.Buffer getFraction(IntBuffer dst) { gather(SQL_TIMESTAMP_STRUCT.FRACTION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code year} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putYear(short[] src) { scatter(SQL_TIMESTAMP_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code year} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putYear(ShortBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified array to the {@code month} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putMonth(short[] src) { scatter(SQL_TIMESTAMP_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code month} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putMonth(ShortBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified array to the {@code day} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putDay(short[] src) { scatter(SQL_TIMESTAMP_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code day} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putDay(ShortBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.DAY, src); return this; }
+        /** Copies the values in the specified array to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putHour(short[] src) { scatter(SQL_TIMESTAMP_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putHour(ShortBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified array to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putMinute(short[] src) { scatter(SQL_TIMESTAMP_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putMinute(ShortBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified array to the {@code second} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putSecond(short[] src) { scatter(SQL_TIMESTAMP_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code second} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putSecond(ShortBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified array to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putFraction(int[] src) { scatter(SQL_TIMESTAMP_STRUCT.FRACTION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fraction} field of the structs between the current position and limit. */
+        public SQL_TIMESTAMP_STRUCT.Buffer putFraction(IntBuffer src) { scatter(SQL_TIMESTAMP_STRUCT.FRACTION, src); return this; }
+
     }
 
 }
\ No newline at end of file
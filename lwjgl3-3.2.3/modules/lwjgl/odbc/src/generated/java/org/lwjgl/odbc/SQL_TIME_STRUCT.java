@@ -212,6 +212,24 @@ public class SQL_TIME_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_TIME_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_TIME_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_TIME_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_TIME_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_TIME_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_TIME_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_TIME_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_TIME_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -250,6 +268,26 @@ public class SQL_TIME_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_TIME_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_TIME_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_TIME_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_TIME_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #hour}. */
@@ -321,6 +359,32 @@ public class SQL_TIME_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code second} field. */
         public SQL_TIME_STRUCT.Buffer second(@NativeType("SQLUSMALLINT") short value) { SQL_TIME_STRUCT.nsecond(address(), value); return this; }
 
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIME_STRUCT.Buffer getHour(short[] dst) { gather(SQL_TIME_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code hour} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIME_STRUCT.Buffer getHour(ShortBuffer dst) { gather(SQL_TIME_STRUCT.HOUR, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIME_STRUCT.Buffer getMinute(short[] dst) { gather(SQL_TIME_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code minute} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIME_STRUCT.Buffer getMinute(ShortBuffer dst) { gather(SQL_TIME_STRUCT.MINUTE, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified array. */
+        public SQL_TIME_STRUCT.Buffer getSecond(short[] dst) { gather(SQL_TIME_STRUCT.SECOND, dst); return this; }
+        /** Copies the {@code second} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_TIME_STRUCT.Buffer getSecond(ShortBuffer dst) { gather(SQL_TIME_STRUCT.SECOND, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_TIME_STRUCT.Buffer putHour(short[] src) { scatter(SQL_TIME_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hour} field of the structs between the current position and limit. */
+        public SQL_TIME_STRUCT.Buffer putHour(ShortBuffer src) { scatter(SQL_TIME_STRUCT.HOUR, src); return this; }
+        /** Copies the values in the specified array to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_TIME_STRUCT.Buffer putMinute(short[] src) { scatter(SQL_TIME_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minute} field of the structs between the current position and limit. */
+        public SQL_TIME_STRUCT.Buffer putMinute(ShortBuffer src) { scatter(SQL_TIME_STRUCT.MINUTE, src); return this; }
+        /** Copies the values in the specified array to the {@code second} field of the structs between the current position and limit. */
+        public SQL_TIME_STRUCT.Buffer putSecond(short[] src) { scatter(SQL_TIME_STRUCT.SECOND, src); return this; }
+        /** Copies the values in the specified buffer to the {@code second} field of the structs between the current position and limit. */
+        public SQL_TIME_STRUCT.Buffer putSecond(ShortBuffer src) { scatter(SQL_TIME_STRUCT.SECOND, src); return this; }
+
     }
 
 }
\ No newline at end of file
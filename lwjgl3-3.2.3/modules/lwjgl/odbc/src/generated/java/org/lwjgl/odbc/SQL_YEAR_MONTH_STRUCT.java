@@ -201,6 +201,24 @@ public class SQL_YEAR_MONTH_STRUCT extends Struct implements NativeResource {
         return wrap(SQL_YEAR_MONTH_STRUCT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code SQL_YEAR_MONTH_STRUCT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_YEAR_MONTH_STRUCT malloc(MemoryArena arena) {
+        return wrap(SQL_YEAR_MONTH_STRUCT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code SQL_YEAR_MONTH_STRUCT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static SQL_YEAR_MONTH_STRUCT calloc(MemoryArena arena) {
+        return wrap(SQL_YEAR_MONTH_STRUCT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link SQL_YEAR_MONTH_STRUCT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class SQL_YEAR_MONTH_STRUCT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link SQL_YEAR_MONTH_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_YEAR_MONTH_STRUCT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link SQL_YEAR_MONTH_STRUCT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static SQL_YEAR_MONTH_STRUCT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #year}. */
@@ -301,6 +339,24 @@ public class SQL_YEAR_MONTH_STRUCT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code month} field. */
         public SQL_YEAR_MONTH_STRUCT.Buffer month(@NativeType("SQLUINTEGER") int value) { SQL_YEAR_MONTH_STRUCT.nmonth(address(), value); return this; }
 
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified array. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer getYear(int[] dst) { gather(SQL_YEAR_MONTH_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code year} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer getYear(IntBuffer dst) { gather(SQL_YEAR_MONTH_STRUCT.YEAR, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified array. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer getMonth(int[] dst) { gather(SQL_YEAR_MONTH_STRUCT.MONTH, dst); return this; }
+        /** Copies the {@code month} field of the structs between the current position and limit to the specified buffer. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer getMonth(IntBuffer dst) { gather(SQL_YEAR_MONTH_STRUCT.MONTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code year} field of the structs between the current position and limit. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer putYear(int[] src) { scatter(SQL_YEAR_MONTH_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code year} field of the structs between the current position and limit. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer putYear(IntBuffer src) { scatter(SQL_YEAR_MONTH_STRUCT.YEAR, src); return this; }
+        /** Copies the values in the specified array to the {@code month} field of the structs between the current position and limit. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer putMonth(int[] src) { scatter(SQL_YEAR_MONTH_STRUCT.MONTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code month} field of the structs between the current position and limit. */
+        public SQL_YEAR_MONTH_STRUCT.Buffer putMonth(IntBuffer src) { scatter(SQL_YEAR_MONTH_STRUCT.MONTH, src); return this; }
+
     }
 
 }
\ No newline at end of file
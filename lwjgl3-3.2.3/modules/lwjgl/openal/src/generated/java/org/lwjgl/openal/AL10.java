@@ -121,6 +121,8 @@ public class AL10 {
         AL_PENDING   = 0x2011,
         AL_PROCESSED = 0x2012;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AL10.class, "alGetError,alEnable,alDisable,alIsEnabled,alGetBoolean,alGetInteger,alGetFloat,alGetDouble,alGetBooleanv,alGetIntegerv,alGetFloatv,alGetDoublev,alGetString,alDistanceModel,alDopplerFactor,alDopplerVelocity,alListenerf,alListeneri,alListener3f,alListenerfv,alGetListenerf,alGetListeneri,alGetListener3f,alGetListenerfv,alGenSources,alDeleteSources,alIsSource,alSourcef,alSource3f,alSourcefv,alSourcei,alGetSourcef,alGetSource3f,alGetSourcefv,alGetSourcei,alGetSourceiv,alSourceQueueBuffers,alSourceUnqueueBuffers,alSourcePlay,alSourcePause,alSourceStop,alSourceRewind,alSourcePlayv,alSourcePausev,alSourceStopv,alSourceRewindv,alGenBuffers,alDeleteBuffers,alIsBuffer,alGetBufferf,alGetBufferi,alBufferData,alGetEnumValue,alGetProcAddress,alIsExtensionPresent");
+
     protected AL10() {
         throw new UnsupportedOperationException();
     }
@@ -154,7 +156,8 @@ public class AL10 {
     @NativeType("ALenum")
     public static int alGetError() {
         long __functionAddress = AL.getICD().alGetError;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(__functionAddress));
     }
 
     // --- [ alEnable ] ---
@@ -167,7 +170,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alEnable(@NativeType("ALenum") int target) {
         long __functionAddress = AL.getICD().alEnable;
+        long __start = FunctionProfiler.start();
         invokeV(target, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ alDisable ] ---
@@ -180,7 +185,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alDisable(@NativeType("ALenum") int target) {
         long __functionAddress = AL.getICD().alDisable;
+        long __start = FunctionProfiler.start();
         invokeV(target, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ alIsEnabled ] ---
@@ -193,7 +200,8 @@ public class AL10 {
     @NativeType("ALboolean")
     public static boolean alIsEnabled(@NativeType("ALenum") int target) {
         long __functionAddress = AL.getICD().alIsEnabled;
-        return invokeZ(target, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokeZ(target, __functionAddress));
     }
 
     // --- [ alGetBoolean ] ---
@@ -206,7 +214,8 @@ public class AL10 {
     @NativeType("ALboolean")
     public static boolean alGetBoolean(@NativeType("ALenum") int paramName) {
         long __functionAddress = AL.getICD().alGetBoolean;
-        return invokeZ(paramName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokeZ(paramName, __functionAddress));
     }
 
     // --- [ alGetInteger ] ---
@@ -219,7 +228,8 @@ public class AL10 {
     @NativeType("ALint")
     public static int alGetInteger(@NativeType("ALenum") int paramName) {
         long __functionAddress = AL.getICD().alGetInteger;
-        return invokeI(paramName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokeI(paramName, __functionAddress));
     }
 
     // --- [ alGetFloat ] ---
@@ -232,7 +242,8 @@ public class AL10 {
     @NativeType("ALfloat")
     public static float alGetFloat(@NativeType("ALenum") int paramName) {
         long __functionAddress = AL.getICD().alGetFloat;
-        return invokeF(paramName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokeF(paramName, __functionAddress));
     }
 
     // --- [ alGetDouble ] ---
@@ -245,7 +256,8 @@ public class AL10 {
     @NativeType("ALdouble")
     public static double alGetDouble(@NativeType("ALenum") int paramName) {
         long __functionAddress = AL.getICD().alGetDouble;
-        return invokeD(paramName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokeD(paramName, __functionAddress));
     }
 
     // --- [ alGetBooleanv ] ---
@@ -253,7 +265,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetBooleanv GetBooleanv} */
     public static void nalGetBooleanv(int paramName, long dest) {
         long __functionAddress = AL.getICD().alGetBooleanv;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -275,7 +289,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetIntegerv GetIntegerv} */
     public static void nalGetIntegerv(int paramName, long dest) {
         long __functionAddress = AL.getICD().alGetIntegerv;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -297,7 +313,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetFloatv GetFloatv} */
     public static void nalGetFloatv(int paramName, long dest) {
         long __functionAddress = AL.getICD().alGetFloatv;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -319,7 +337,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetDoublev GetDoublev} */
     public static void nalGetDoublev(int paramName, long dest) {
         long __functionAddress = AL.getICD().alGetDoublev;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -341,7 +361,8 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetString GetString} */
     public static long nalGetString(int paramName) {
         long __functionAddress = AL.getICD().alGetString;
-        return invokeP(paramName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokeP(paramName, __functionAddress));
     }
 
     /**
@@ -376,7 +397,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alDistanceModel(@NativeType("ALenum") int modelName) {
         long __functionAddress = AL.getICD().alDistanceModel;
+        long __start = FunctionProfiler.start();
         invokeV(modelName, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ alDopplerFactor ] ---
@@ -424,7 +447,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alDopplerFactor(@NativeType("ALfloat") float dopplerFactor) {
         long __functionAddress = AL.getICD().alDopplerFactor;
+        long __start = FunctionProfiler.start();
         invokeV(dopplerFactor, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ alDopplerVelocity ] ---
@@ -450,7 +475,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alDopplerVelocity(@NativeType("ALfloat") float dopplerVelocity) {
         long __functionAddress = AL.getICD().alDopplerVelocity;
+        long __start = FunctionProfiler.start();
         invokeV(dopplerVelocity, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ alListenerf ] ---
@@ -464,7 +491,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alListenerf(@NativeType("ALenum") int paramName, @NativeType("ALfloat") float value) {
         long __functionAddress = AL.getICD().alListenerf;
+        long __start = FunctionProfiler.start();
         invokeV(paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ alListeneri ] ---
@@ -478,7 +507,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alListeneri(@NativeType("ALenum") int paramName, @NativeType("ALint") int values) {
         long __functionAddress = AL.getICD().alListeneri;
+        long __start = FunctionProfiler.start();
         invokeV(paramName, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ alListener3f ] ---
@@ -494,7 +525,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alListener3f(@NativeType("ALenum") int paramName, @NativeType("ALfloat") float value1, @NativeType("ALfloat") float value2, @NativeType("ALfloat") float value3) {
         long __functionAddress = AL.getICD().alListener3f;
+        long __start = FunctionProfiler.start();
         invokeV(paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ alListenerfv ] ---
@@ -502,7 +535,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alListenerfv Listenerfv} */
     public static void nalListenerfv(int paramName, long values) {
         long __functionAddress = AL.getICD().alListenerfv;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -524,7 +559,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetListenerf GetListenerf} */
     public static void nalGetListenerf(int paramName, long value) {
         long __functionAddress = AL.getICD().alGetListenerf;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -563,7 +600,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetListeneri GetListeneri} */
     public static void nalGetListeneri(int paramName, long value) {
         long __functionAddress = AL.getICD().alGetListeneri;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -602,7 +641,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetListener3f GetListener3f} */
     public static void nalGetListener3f(int paramName, long value1, long value2, long value3) {
         long __functionAddress = AL.getICD().alGetListener3f;
+        long __start = FunctionProfiler.start();
         invokePPPV(paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -628,7 +669,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetListenerfv GetListenerfv} */
     public static void nalGetListenerfv(int paramName, long values) {
         long __functionAddress = AL.getICD().alGetListenerfv;
+        long __start = FunctionProfiler.start();
         invokePV(paramName, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -654,7 +697,9 @@ public class AL10 {
      */
     public static void nalGenSources(int n, long srcNames) {
         long __functionAddress = AL.getICD().alGenSources;
+        long __start = FunctionProfiler.start();
         invokePV(n, srcNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -689,7 +734,9 @@ public class AL10 {
      */
     public static void nalDeleteSources(int n, long sources) {
         long __functionAddress = AL.getICD().alDeleteSources;
+        long __start = FunctionProfiler.start();
         invokePV(n, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -724,7 +771,8 @@ public class AL10 {
     @NativeType("ALboolean")
     public static boolean alIsSource(@NativeType("ALuint") int sourceName) {
         long __functionAddress = AL.getICD().alIsSource;
-        return invokeZ(sourceName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokeZ(sourceName, __functionAddress));
     }
 
     // --- [ alSourcef ] ---
@@ -739,7 +787,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSourcef(@NativeType("ALuint") int source, @NativeType("ALenum") int param, @NativeType("ALfloat") float value) {
         long __functionAddress = AL.getICD().alSourcef;
+        long __start = FunctionProfiler.start();
         invokeV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ alSource3f ] ---
@@ -756,7 +806,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSource3f(@NativeType("ALuint") int source, @NativeType("ALenum") int param, @NativeType("ALfloat") float v1, @NativeType("ALfloat") float v2, @NativeType("ALfloat") float v3) {
         long __functionAddress = AL.getICD().alSource3f;
+        long __start = FunctionProfiler.start();
         invokeV(source, param, v1, v2, v3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ alSourcefv ] ---
@@ -764,7 +816,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alSourcefv Sourcefv} */
     public static void nalSourcefv(int source, int param, long values) {
         long __functionAddress = AL.getICD().alSourcefv;
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -794,7 +848,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSourcei(@NativeType("ALuint") int source, @NativeType("ALenum") int param, @NativeType("ALint") int value) {
         long __functionAddress = AL.getICD().alSourcei;
+        long __start = FunctionProfiler.start();
         invokeV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ alGetSourcef ] ---
@@ -802,7 +858,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetSourcef GetSourcef} */
     public static void nalGetSourcef(int source, int param, long value) {
         long __functionAddress = AL.getICD().alGetSourcef;
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -843,7 +901,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetSource3f GetSource3f} */
     public static void nalGetSource3f(int source, int param, long v1, long v2, long v3) {
         long __functionAddress = AL.getICD().alGetSource3f;
+        long __start = FunctionProfiler.start();
         invokePPPV(source, param, v1, v2, v3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -870,7 +930,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetSourcefv GetSourcefv} */
     public static void nalGetSourcefv(int source, int param, long values) {
         long __functionAddress = AL.getICD().alGetSourcefv;
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -893,7 +955,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetSourcei GetSourcei} */
     public static void nalGetSourcei(int source, int param, long value) {
         long __functionAddress = AL.getICD().alGetSourcei;
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -934,7 +998,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetSourceiv GetSourceiv} */
     public static void nalGetSourceiv(int source, int param, long values) {
         long __functionAddress = AL.getICD().alGetSourceiv;
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -961,7 +1027,9 @@ public class AL10 {
      */
     public static void nalSourceQueueBuffers(int sourceName, int numBuffers, long bufferNames) {
         long __functionAddress = AL.getICD().alSourceQueueBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(sourceName, numBuffers, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -1008,7 +1076,9 @@ public class AL10 {
      */
     public static void nalSourceUnqueueBuffers(int sourceName, int numEntries, long bufferNames) {
         long __functionAddress = AL.getICD().alSourceUnqueueBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(sourceName, numEntries, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -1065,7 +1135,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSourcePlay(@NativeType("ALuint") int source) {
         long __functionAddress = AL.getICD().alSourcePlay;
+        long __start = FunctionProfiler.start();
         invokeV(source, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ alSourcePause ] ---
@@ -1082,7 +1154,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSourcePause(@NativeType("ALuint") int source) {
         long __functionAddress = AL.getICD().alSourcePause;
+        long __start = FunctionProfiler.start();
         invokeV(source, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ alSourceStop ] ---
@@ -1099,7 +1173,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSourceStop(@NativeType("ALuint") int source) {
         long __functionAddress = AL.getICD().alSourceStop;
+        long __start = FunctionProfiler.start();
         invokeV(source, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ alSourceRewind ] ---
@@ -1117,7 +1193,9 @@ public class AL10 {
     @NativeType("ALvoid")
     public static void alSourceRewind(@NativeType("ALuint") int source) {
         long __functionAddress = AL.getICD().alSourceRewind;
+        long __start = FunctionProfiler.start();
         invokeV(source, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ alSourcePlayv ] ---
@@ -1129,7 +1207,9 @@ public class AL10 {
      */
     public static void nalSourcePlayv(int n, long sources) {
         long __functionAddress = AL.getICD().alSourcePlayv;
+        long __start = FunctionProfiler.start();
         invokePV(n, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -1151,7 +1231,9 @@ public class AL10 {
      */
     public static void nalSourcePausev(int n, long sources) {
         long __functionAddress = AL.getICD().alSourcePausev;
+        long __start = FunctionProfiler.start();
         invokePV(n, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -1173,7 +1255,9 @@ public class AL10 {
      */
     public static void nalSourceStopv(int n, long sources) {
         long __functionAddress = AL.getICD().alSourceStopv;
+        long __start = FunctionProfiler.start();
         invokePV(n, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -1195,7 +1279,9 @@ public class AL10 {
      */
     public static void nalSourceRewindv(int n, long sources) {
         long __functionAddress = AL.getICD().alSourceRewindv;
+        long __start = FunctionProfiler.start();
         invokePV(n, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -1217,7 +1303,9 @@ public class AL10 {
      */
     public static void nalGenBuffers(int n, long bufferNames) {
         long __functionAddress = AL.getICD().alGenBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(n, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -1252,7 +1340,9 @@ public class AL10 {
      */
     public static void nalDeleteBuffers(int n, long bufferNames) {
         long __functionAddress = AL.getICD().alDeleteBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(n, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -1287,7 +1377,8 @@ public class AL10 {
     @NativeType("ALboolean")
     public static boolean alIsBuffer(@NativeType("ALuint") int bufferName) {
         long __functionAddress = AL.getICD().alIsBuffer;
-        return invokeZ(bufferName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, invokeZ(bufferName, __functionAddress));
     }
 
     // --- [ alGetBufferf ] ---
@@ -1295,7 +1386,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetBufferf GetBufferf} */
     public static void nalGetBufferf(int bufferName, int paramName, long value) {
         long __functionAddress = AL.getICD().alGetBufferf;
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -1336,7 +1429,9 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetBufferi GetBufferi} */
     public static void nalGetBufferi(int bufferName, int paramName, long value) {
         long __functionAddress = AL.getICD().alGetBufferi;
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -1381,7 +1476,9 @@ public class AL10 {
      */
     public static void nalBufferData(int bufferName, int format, long data, int size, int frequency) {
         long __functionAddress = AL.getICD().alBufferData;
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, format, data, size, frequency, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -1493,7 +1590,8 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetEnumValue GetEnumValue} */
     public static int nalGetEnumValue(long enumName) {
         long __functionAddress = AL.getICD().alGetEnumValue;
-        return invokePI(enumName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, invokePI(enumName, __functionAddress));
     }
 
     /**
@@ -1531,7 +1629,8 @@ public class AL10 {
     /** Unsafe version of: {@link #alGetProcAddress GetProcAddress} */
     public static long nalGetProcAddress(long funcName) {
         long __functionAddress = AL.getICD().alGetProcAddress;
-        return invokePP(funcName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, invokePP(funcName, __functionAddress));
     }
 
     /**
@@ -1581,7 +1680,8 @@ public class AL10 {
     /** Unsafe version of: {@link #alIsExtensionPresent IsExtensionPresent} */
     public static boolean nalIsExtensionPresent(long extName) {
         long __functionAddress = AL.getICD().alIsExtensionPresent;
-        return invokePZ(extName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, invokePZ(extName, __functionAddress));
     }
 
     /**
@@ -1627,7 +1727,9 @@ public class AL10 {
         if (CHECKS) {
             check(dest, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #alGetFloatv GetFloatv} */
@@ -1637,7 +1739,9 @@ public class AL10 {
         if (CHECKS) {
             check(dest, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #alGetDoublev GetDoublev} */
@@ -1647,7 +1751,9 @@ public class AL10 {
         if (CHECKS) {
             check(dest, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #alListenerfv Listenerfv} */
@@ -1657,7 +1763,9 @@ public class AL10 {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #alGetListenerf GetListenerf} */
@@ -1667,7 +1775,9 @@ public class AL10 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #alGetListeneri GetListeneri} */
@@ -1677,7 +1787,9 @@ public class AL10 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #alGetListener3f GetListener3f} */
@@ -1689,7 +1801,9 @@ public class AL10 {
             check(value2, 1);
             check(value3, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #alGetListenerfv GetListenerfv} */
@@ -1699,21 +1813,27 @@ public class AL10 {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(paramName, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #alGenSources GenSources} */
     @NativeType("ALvoid")
     public static void alGenSources(@NativeType("ALuint *") int[] srcNames) {
         long __functionAddress = AL.getICD().alGenSources;
+        long __start = FunctionProfiler.start();
         invokePV(srcNames.length, srcNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** Array version of: {@link #alDeleteSources DeleteSources} */
     @NativeType("ALvoid")
     public static void alDeleteSources(@NativeType("ALuint *") int[] sources) {
         long __functionAddress = AL.getICD().alDeleteSources;
+        long __start = FunctionProfiler.start();
         invokePV(sources.length, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #alSourcefv Sourcefv} */
@@ -1723,7 +1843,9 @@ public class AL10 {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** Array version of: {@link #alGetSourcef GetSourcef} */
@@ -1733,7 +1855,9 @@ public class AL10 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #alGetSource3f GetSource3f} */
@@ -1745,7 +1869,9 @@ public class AL10 {
             check(v2, 1);
             check(v3, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(source, param, v1, v2, v3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #alGetSourcefv GetSourcefv} */
@@ -1755,7 +1881,9 @@ public class AL10 {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #alGetSourcei GetSourcei} */
@@ -1765,7 +1893,9 @@ public class AL10 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #alGetSourceiv GetSourceiv} */
@@ -1775,63 +1905,81 @@ public class AL10 {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** Array version of: {@link #alSourceQueueBuffers SourceQueueBuffers} */
     @NativeType("ALvoid")
     public static void alSourceQueueBuffers(@NativeType("ALuint") int sourceName, @NativeType("ALuint *") int[] bufferNames) {
         long __functionAddress = AL.getICD().alSourceQueueBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(sourceName, bufferNames.length, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /** Array version of: {@link #alSourceUnqueueBuffers SourceUnqueueBuffers} */
     @NativeType("ALvoid")
     public static void alSourceUnqueueBuffers(@NativeType("ALuint") int sourceName, @NativeType("ALuint *") int[] bufferNames) {
         long __functionAddress = AL.getICD().alSourceUnqueueBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(sourceName, bufferNames.length, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #alSourcePlayv SourcePlayv} */
     @NativeType("ALvoid")
     public static void alSourcePlayv(@NativeType("ALuint const *") int[] sources) {
         long __functionAddress = AL.getICD().alSourcePlayv;
+        long __start = FunctionProfiler.start();
         invokePV(sources.length, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** Array version of: {@link #alSourcePausev SourcePausev} */
     @NativeType("ALvoid")
     public static void alSourcePausev(@NativeType("ALuint const *") int[] sources) {
         long __functionAddress = AL.getICD().alSourcePausev;
+        long __start = FunctionProfiler.start();
         invokePV(sources.length, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** Array version of: {@link #alSourceStopv SourceStopv} */
     @NativeType("ALvoid")
     public static void alSourceStopv(@NativeType("ALuint const *") int[] sources) {
         long __functionAddress = AL.getICD().alSourceStopv;
+        long __start = FunctionProfiler.start();
         invokePV(sources.length, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /** Array version of: {@link #alSourceRewindv SourceRewindv} */
     @NativeType("ALvoid")
     public static void alSourceRewindv(@NativeType("ALuint const *") int[] sources) {
         long __functionAddress = AL.getICD().alSourceRewindv;
+        long __start = FunctionProfiler.start();
         invokePV(sources.length, sources, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** Array version of: {@link #alGenBuffers GenBuffers} */
     @NativeType("ALvoid")
     public static void alGenBuffers(@NativeType("ALuint *") int[] bufferNames) {
         long __functionAddress = AL.getICD().alGenBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(bufferNames.length, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /** Array version of: {@link #alDeleteBuffers DeleteBuffers} */
     @NativeType("ALvoid")
     public static void alDeleteBuffers(@NativeType("ALuint const *") int[] bufferNames) {
         long __functionAddress = AL.getICD().alDeleteBuffers;
+        long __start = FunctionProfiler.start();
         invokePV(bufferNames.length, bufferNames, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /** Array version of: {@link #alGetBufferf GetBufferf} */
@@ -1841,7 +1989,9 @@ public class AL10 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /** Array version of: {@link #alGetBufferi GetBufferi} */
@@ -1851,28 +2001,36 @@ public class AL10 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /** Array version of: {@link #alBufferData BufferData} */
     @NativeType("ALvoid")
     public static void alBufferData(@NativeType("ALuint") int bufferName, @NativeType("ALenum") int format, @NativeType("ALvoid const *") short[] data, @NativeType("ALsizei") int frequency) {
         long __functionAddress = AL.getICD().alBufferData;
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, format, data, data.length << 1, frequency, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /** Array version of: {@link #alBufferData BufferData} */
     @NativeType("ALvoid")
     public static void alBufferData(@NativeType("ALuint") int bufferName, @NativeType("ALenum") int format, @NativeType("ALvoid const *") int[] data, @NativeType("ALsizei") int frequency) {
         long __functionAddress = AL.getICD().alBufferData;
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, format, data, data.length << 2, frequency, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /** Array version of: {@link #alBufferData BufferData} */
     @NativeType("ALvoid")
     public static void alBufferData(@NativeType("ALuint") int bufferName, @NativeType("ALenum") int format, @NativeType("ALvoid const *") float[] data, @NativeType("ALsizei") int frequency) {
         long __functionAddress = AL.getICD().alBufferData;
+        long __start = FunctionProfiler.start();
         invokePV(bufferName, format, data, data.length << 2, frequency, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
 }
\ No newline at end of file
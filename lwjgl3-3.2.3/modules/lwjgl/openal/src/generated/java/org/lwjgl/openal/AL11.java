@@ -31,6 +31,8 @@ public class AL11 extends AL10 {
         AL_EXPONENT_DISTANCE         = 0xD005,
         AL_EXPONENT_DISTANCE_CLAMPED = 0xD006;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AL11.class, "alListener3i,alGetListeneriv,alSource3i,alListeneriv,alSourceiv,alBufferf,alBuffer3f,alBufferfv,alBufferi,alBuffer3i,alBufferiv,alGetBufferiv,alGetBufferfv,alSpeedOfSound");
+
     protected AL11() {
         throw new UnsupportedOperationException();
     }
@@ -58,7 +60,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ alGetListeneriv ] ---
@@ -69,7 +73,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -103,7 +109,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(source, paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ alListeneriv ] ---
@@ -114,7 +122,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(listener, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -139,7 +149,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -172,7 +184,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(buffer, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ alBuffer3f ] ---
@@ -192,7 +206,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(buffer, paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ alBufferfv ] ---
@@ -203,7 +219,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -236,7 +254,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(buffer, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ alBuffer3i ] ---
@@ -256,7 +276,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(buffer, paramName, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ alBufferiv ] ---
@@ -267,7 +289,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -293,7 +317,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -319,7 +345,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -350,7 +378,9 @@ public class AL11 extends AL10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #alGetListeneriv GetListeneriv} */
@@ -361,7 +391,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #alListeneriv Listeneriv} */
@@ -372,7 +404,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(listener, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #alSourceiv Sourceiv} */
@@ -383,7 +417,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #alBufferfv Bufferfv} */
@@ -394,7 +430,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #alBufferiv Bufferiv} */
@@ -405,7 +443,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, paramName, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #alGetBufferiv GetBufferiv} */
@@ -416,7 +456,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #alGetBufferfv GetBufferfv} */
@@ -427,7 +469,9 @@ public class AL11 extends AL10 {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
 }
\ No newline at end of file
@@ -53,6 +53,8 @@ public class ALC10 {
         ALC_ATTRIBUTES_SIZE = 0x1002,
         ALC_ALL_ATTRIBUTES  = 0x1003;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ALC10.class, "alcOpenDevice,alcCloseDevice,alcCreateContext,alcMakeContextCurrent,alcProcessContext,alcSuspendContext,alcDestroyContext,alcGetCurrentContext,alcGetContextsDevice,alcIsExtensionPresent,alcGetProcAddress,alcGetEnumValue,alcGetError,alcGetString,alcGetIntegerv");
+
     protected ALC10() {
         throw new UnsupportedOperationException();
     }
@@ -70,7 +72,8 @@ public class ALC10 {
     /** Unsafe version of: {@link #alcOpenDevice OpenDevice} */
     public static long nalcOpenDevice(long deviceSpecifier) {
 		long __functionAddress = ALC.getICD().alcOpenDevice;
-        return invokePP(deviceSpecifier, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(deviceSpecifier, __functionAddress));
     }
 
     /**
@@ -125,7 +128,8 @@ public class ALC10 {
         if (CHECKS) {
             check(deviceHandle);
         }
-        return invokePZ(deviceHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePZ(deviceHandle, __functionAddress));
     }
 
     // --- [ alcCreateContext ] ---
@@ -136,7 +140,8 @@ public class ALC10 {
         if (CHECKS) {
             check(deviceHandle);
         }
-        return invokePPP(deviceHandle, attrList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPP(deviceHandle, attrList, __functionAddress));
     }
 
     /**
@@ -169,7 +174,8 @@ public class ALC10 {
     @NativeType("ALCboolean")
     public static boolean alcMakeContextCurrent(@NativeType("ALCcontext *") long context) {
 		long __functionAddress = ALC.getICD().alcMakeContextCurrent;
-        return invokePZ(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePZ(context, __functionAddress));
     }
 
     // --- [ alcProcessContext ] ---
@@ -190,7 +196,9 @@ public class ALC10 {
         if (CHECKS) {
             check(context);
         }
+        long __start = FunctionProfiler.start();
         invokePV(context, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ alcSuspendContext ] ---
@@ -209,7 +217,9 @@ public class ALC10 {
         if (CHECKS) {
             check(context);
         }
+        long __start = FunctionProfiler.start();
         invokePV(context, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ alcDestroyContext ] ---
@@ -229,7 +239,9 @@ public class ALC10 {
         if (CHECKS) {
             check(context);
         }
+        long __start = FunctionProfiler.start();
         invokePV(context, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ alcGetCurrentContext ] ---
@@ -238,7 +250,8 @@ public class ALC10 {
     @NativeType("ALCcontext *")
     public static long alcGetCurrentContext() {
 		long __functionAddress = ALC.getICD().alcGetCurrentContext;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokeP(__functionAddress));
     }
 
     // --- [ alcGetContextsDevice ] ---
@@ -254,7 +267,8 @@ public class ALC10 {
         if (CHECKS) {
             check(context);
         }
-        return invokePP(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePP(context, __functionAddress));
     }
 
     // --- [ alcIsExtensionPresent ] ---
@@ -262,7 +276,8 @@ public class ALC10 {
     /** Unsafe version of: {@link #alcIsExtensionPresent IsExtensionPresent} */
     public static boolean nalcIsExtensionPresent(long deviceHandle, long extName) {
 		long __functionAddress = ALC.getICD().alcIsExtensionPresent;
-        return invokePPZ(deviceHandle, extName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPZ(deviceHandle, extName, __functionAddress));
     }
 
     /**
@@ -308,7 +323,8 @@ public class ALC10 {
     /** Unsafe version of: {@link #alcGetProcAddress GetProcAddress} */
     public static long nalcGetProcAddress(long deviceHandle, long funcName) {
 		long __functionAddress = ALC.getICD().alcGetProcAddress;
-        return invokePPP(deviceHandle, funcName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPP(deviceHandle, funcName, __functionAddress));
     }
 
     /**
@@ -360,7 +376,8 @@ public class ALC10 {
     /** Unsafe version of: {@link #alcGetEnumValue GetEnumValue} */
     public static int nalcGetEnumValue(long deviceHandle, long enumName) {
 		long __functionAddress = ALC.getICD().alcGetEnumValue;
-        return invokePPI(deviceHandle, enumName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPI(deviceHandle, enumName, __functionAddress));
     }
 
     /**
@@ -416,7 +433,8 @@ public class ALC10 {
     @NativeType("ALCenum")
     public static int alcGetError(@NativeType("ALCdevice *") long deviceHandle) {
 		long __functionAddress = ALC.getICD().alcGetError;
-        return invokePI(deviceHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePI(deviceHandle, __functionAddress));
     }
 
     // --- [ alcGetString ] ---
@@ -424,7 +442,8 @@ public class ALC10 {
     /** Unsafe version of: {@link #alcGetString GetString} */
     public static long nalcGetString(long deviceHandle, int token) {
 		long __functionAddress = ALC.getICD().alcGetString;
-        return invokePP(deviceHandle, token, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePP(deviceHandle, token, __functionAddress));
     }
 
     /**
@@ -451,7 +470,9 @@ public class ALC10 {
      */
     public static void nalcGetIntegerv(long deviceHandle, int token, int size, long dest) {
 		long __functionAddress = ALC.getICD().alcGetIntegerv;
+        long __start = FunctionProfiler.start();
         invokePPV(deviceHandle, token, size, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -492,14 +513,17 @@ public class ALC10 {
             check(deviceHandle);
             checkNTSafe(attrList);
         }
-        return invokePPP(deviceHandle, attrList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPP(deviceHandle, attrList, __functionAddress));
     }
 
     /** Array version of: {@link #alcGetIntegerv GetIntegerv} */
     @NativeType("ALCvoid")
     public static void alcGetIntegerv(@NativeType("ALCdevice *") long deviceHandle, @NativeType("ALCenum") int token, @NativeType("ALCint *") int[] dest) {
 		long __functionAddress = ALC.getICD().alcGetIntegerv;
+        long __start = FunctionProfiler.start();
         invokePPV(deviceHandle, token, dest.length, dest, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
 }
\ No newline at end of file
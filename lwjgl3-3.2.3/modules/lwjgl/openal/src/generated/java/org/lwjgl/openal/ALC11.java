@@ -34,6 +34,8 @@ public class ALC11 extends ALC10 {
     /** Integer queries. */
     public static final int ALC_CAPTURE_SAMPLES = 0x312;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ALC11.class, "alcCaptureOpenDevice,alcCaptureCloseDevice,alcCaptureStart,alcCaptureStop,alcCaptureSamples");
+
     protected ALC11() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class ALC11 extends ALC10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePP(deviceName, frequency, format, samples, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(deviceName, frequency, format, samples, __functionAddress));
     }
 
     /**
@@ -111,7 +114,8 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
-        return invokePZ(device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePZ(device, __functionAddress));
     }
 
     // --- [ alcCaptureStart ] ---
@@ -132,7 +136,9 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePV(device, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ alcCaptureStop ] ---
@@ -152,7 +158,9 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePV(device, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ alcCaptureSamples ] ---
@@ -164,7 +172,9 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -231,7 +241,9 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #alcCaptureSamples CaptureSamples} */
@@ -242,7 +254,9 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #alcCaptureSamples CaptureSamples} */
@@ -253,7 +267,9 @@ public class ALC11 extends ALC10 {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
 }
\ No newline at end of file
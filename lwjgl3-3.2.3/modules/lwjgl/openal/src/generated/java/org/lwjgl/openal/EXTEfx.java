@@ -645,6 +645,8 @@ public class EXTEfx {
         AL_BANDPASS_MAX_GAINLF     = 1.0f,
         AL_BANDPASS_DEFAULT_GAINLF = 1.0f;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTEfx.class, "alGenEffects,alDeleteEffects,alIsEffect,alEffecti,alEffectiv,alEffectf,alEffectfv,alGetEffecti,alGetEffectiv,alGetEffectf,alGetEffectfv,alGenFilters,alDeleteFilters,alIsFilter,alFilteri,alFilteriv,alFilterf,alFilterfv,alGetFilteri,alGetFilteriv,alGetFilterf,alGetFilterfv,alGenAuxiliaryEffectSlots,alDeleteAuxiliaryEffectSlots,alIsAuxiliaryEffectSlot,alAuxiliaryEffectSloti,alAuxiliaryEffectSlotiv,alAuxiliaryEffectSlotf,alAuxiliaryEffectSlotfv,alGetAuxiliaryEffectSloti,alGetAuxiliaryEffectSlotiv,alGetAuxiliaryEffectSlotf,alGetAuxiliaryEffectSlotfv");
+
     protected EXTEfx() {
         throw new UnsupportedOperationException();
     }
@@ -672,7 +674,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(n, effects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -710,7 +714,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(n, effects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -748,7 +754,8 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeZ(effect, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokeZ(effect, __functionAddress));
     }
 
     // --- [ alEffecti ] ---
@@ -766,7 +773,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(effect, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ alEffectiv ] ---
@@ -777,7 +786,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -810,7 +821,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(effect, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ alEffectfv ] ---
@@ -821,7 +834,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -847,7 +862,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -891,7 +908,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -917,7 +936,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -961,7 +982,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -991,7 +1014,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(n, filters, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1029,7 +1054,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(n, filters, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1067,7 +1094,8 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeZ(filter, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokeZ(filter, __functionAddress));
     }
 
     // --- [ alFilteri ] ---
@@ -1085,7 +1113,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(filter, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ alFilteriv ] ---
@@ -1096,7 +1126,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1129,7 +1161,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(filter, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ alFilterfv ] ---
@@ -1140,7 +1174,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1166,7 +1202,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1210,7 +1248,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1236,7 +1276,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1280,7 +1322,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1310,7 +1354,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(n, effectSlots, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -1348,7 +1394,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(n, effectSlots, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1386,7 +1434,8 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeZ(effectSlot, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokeZ(effectSlot, __functionAddress));
     }
 
     // --- [ alAuxiliaryEffectSloti ] ---
@@ -1404,7 +1453,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(effectSlot, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ alAuxiliaryEffectSlotiv ] ---
@@ -1415,7 +1466,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -1448,7 +1501,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(effectSlot, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ alAuxiliaryEffectSlotfv ] ---
@@ -1459,7 +1514,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -1485,7 +1542,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -1529,7 +1588,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -1555,7 +1616,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -1599,7 +1662,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -1624,7 +1689,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effects.length, effects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #alDeleteEffects DeleteEffects} */
@@ -1634,7 +1701,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effects.length, effects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #alEffectiv Effectiv} */
@@ -1645,7 +1714,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #alEffectfv Effectfv} */
@@ -1656,7 +1727,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #alGetEffecti GetEffecti} */
@@ -1667,7 +1740,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #alGetEffectiv GetEffectiv} */
@@ -1678,7 +1753,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #alGetEffectf GetEffectf} */
@@ -1689,7 +1766,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #alGetEffectfv GetEffectfv} */
@@ -1700,7 +1779,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effect, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #alGenFilters GenFilters} */
@@ -1710,7 +1791,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filters.length, filters, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #alDeleteFilters DeleteFilters} */
@@ -1720,7 +1803,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filters.length, filters, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #alFilteriv Filteriv} */
@@ -1731,7 +1816,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #alFilterfv Filterfv} */
@@ -1742,7 +1829,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #alGetFilteri GetFilteri} */
@@ -1753,7 +1842,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #alGetFilteriv GetFilteriv} */
@@ -1764,7 +1855,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #alGetFilterf GetFilterf} */
@@ -1775,7 +1868,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #alGetFilterfv GetFilterfv} */
@@ -1786,7 +1881,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(filter, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #alGenAuxiliaryEffectSlots GenAuxiliaryEffectSlots} */
@@ -1796,7 +1893,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlots.length, effectSlots, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #alDeleteAuxiliaryEffectSlots DeleteAuxiliaryEffectSlots} */
@@ -1806,7 +1905,9 @@ public class EXTEfx {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlots.length, effectSlots, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #alAuxiliaryEffectSlotiv AuxiliaryEffectSlotiv} */
@@ -1817,7 +1918,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /** Array version of: {@link #alAuxiliaryEffectSlotfv AuxiliaryEffectSlotfv} */
@@ -1828,7 +1931,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /** Array version of: {@link #alGetAuxiliaryEffectSloti GetAuxiliaryEffectSloti} */
@@ -1839,7 +1944,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** Array version of: {@link #alGetAuxiliaryEffectSlotiv GetAuxiliaryEffectSlotiv} */
@@ -1850,7 +1957,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Array version of: {@link #alGetAuxiliaryEffectSlotf GetAuxiliaryEffectSlotf} */
@@ -1861,7 +1970,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #alGetAuxiliaryEffectSlotfv GetAuxiliaryEffectSlotfv} */
@@ -1872,7 +1983,9 @@ public class EXTEfx {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(effectSlot, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTStaticBuffer {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTStaticBuffer.class, "alBufferDataStatic");
+
     protected EXTStaticBuffer() {
         throw new UnsupportedOperationException();
     }
@@ -44,7 +46,9 @@ public class EXTStaticBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, format, data, len, freq, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -106,7 +110,9 @@ public class EXTStaticBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, format, data, data.length << 1, freq, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #alBufferDataStatic BufferDataStatic} */
@@ -116,7 +122,9 @@ public class EXTStaticBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, format, data, data.length << 2, freq, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #alBufferDataStatic BufferDataStatic} */
@@ -126,7 +134,9 @@ public class EXTStaticBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(buffer, format, data, data.length << 2, freq, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
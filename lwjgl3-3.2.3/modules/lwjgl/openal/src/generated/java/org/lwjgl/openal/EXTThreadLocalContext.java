@@ -18,6 +18,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class EXTThreadLocalContext {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTThreadLocalContext.class, "alcSetThreadContext,alcGetThreadContext");
+
     protected EXTThreadLocalContext() {
         throw new UnsupportedOperationException();
     }
@@ -42,7 +44,8 @@ public class EXTThreadLocalContext {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePZ(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePZ(context, __functionAddress));
     }
 
     // --- [ alcGetThreadContext ] ---
@@ -54,7 +57,8 @@ public class EXTThreadLocalContext {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokeP(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ public class SOFTDeferredUpdates {
     /** Accepted by the {@code paramName} parameter of {@link AL10#alGetBoolean GetBoolean}, {@link AL10#alGetBooleanv GetBooleanv} (as well as the Integer, Float, and Double variants). */
     public static final int AL_DEFERRED_UPDATES_SOFT = 0xC002;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTDeferredUpdates.class, "alDeferUpdatesSOFT,alProcessUpdatesSOFT");
+
     protected SOFTDeferredUpdates() {
         throw new UnsupportedOperationException();
     }
@@ -50,7 +52,9 @@ public class SOFTDeferredUpdates {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ alProcessUpdatesSOFT ] ---
@@ -66,7 +70,9 @@ public class SOFTDeferredUpdates {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
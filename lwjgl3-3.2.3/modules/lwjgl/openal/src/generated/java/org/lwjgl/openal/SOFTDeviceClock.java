@@ -59,6 +59,8 @@ public class SOFTDeviceClock {
      */
     public static final int AL_SEC_OFFSET_CLOCK_SOFT = 0x1203;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTDeviceClock.class, "alcGetInteger64vSOFT");
+
     protected SOFTDeviceClock() {
         throw new UnsupportedOperationException();
     }
@@ -77,7 +79,9 @@ public class SOFTDeviceClock {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, pname, size, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -132,7 +136,9 @@ public class SOFTDeviceClock {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, pname, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
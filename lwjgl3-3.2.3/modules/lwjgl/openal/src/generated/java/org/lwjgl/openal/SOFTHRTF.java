@@ -56,6 +56,8 @@ public class SOFTHRTF {
         ALC_HRTF_HEADPHONES_DETECTED_SOFT = 0x4,
         ALC_HRTF_UNSUPPORTED_FORMAT_SOFT  = 0x5;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTHRTF.class, "alcGetStringiSOFT,alcResetDeviceSOFT");
+
     protected SOFTHRTF() {
         throw new UnsupportedOperationException();
     }
@@ -75,7 +77,8 @@ public class SOFTHRTF {
             check(__functionAddress);
             check(device);
         }
-        return invokePP(device, paramName, index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(device, paramName, index, __functionAddress));
     }
 
     /**
@@ -104,7 +107,8 @@ public class SOFTHRTF {
             check(__functionAddress);
             check(device);
         }
-        return invokePPZ(device, attrList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePPZ(device, attrList, __functionAddress));
     }
 
     /**
@@ -135,7 +139,8 @@ public class SOFTHRTF {
             check(device);
             checkNTSafe(attrList);
         }
-        return invokePPZ(device, attrList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePPZ(device, attrList, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -48,6 +48,8 @@ public class SOFTLoopback {
         ALC_FORMAT_CHANNELS_SOFT = 0x1990,
         ALC_FORMAT_TYPE_SOFT     = 0x1991;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTLoopback.class, "alcLoopbackOpenDeviceSOFT,alcIsRenderFormatSupportedSOFT,alcRenderSamplesSOFT");
+
     protected SOFTLoopback() {
         throw new UnsupportedOperationException();
     }
@@ -66,7 +68,8 @@ public class SOFTLoopback {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokePP(deviceName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(deviceName, __functionAddress));
     }
 
     /**
@@ -141,7 +144,8 @@ public class SOFTLoopback {
             check(__functionAddress);
             check(device);
         }
-        return invokePZ(device, frequency, channels, type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePZ(device, frequency, channels, type, __functionAddress));
     }
 
     // --- [ alcRenderSamplesSOFT ] ---
@@ -153,7 +157,9 @@ public class SOFTLoopback {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -216,7 +222,9 @@ public class SOFTLoopback {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #alcRenderSamplesSOFT RenderSamplesSOFT} */
@@ -227,7 +235,9 @@ public class SOFTLoopback {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #alcRenderSamplesSOFT RenderSamplesSOFT} */
@@ -238,7 +248,9 @@ public class SOFTLoopback {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(device, buffer, samples, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class SOFTPauseDevice {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTPauseDevice.class, "alcDevicePauseSOFT,alcDeviceResumeSOFT");
+
     protected SOFTPauseDevice() {
         throw new UnsupportedOperationException();
     }
@@ -46,7 +48,9 @@ public class SOFTPauseDevice {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePV(device, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ alcDeviceResumeSOFT ] ---
@@ -69,7 +73,9 @@ public class SOFTPauseDevice {
             check(__functionAddress);
             check(device);
         }
+        long __start = FunctionProfiler.start();
         invokePV(device, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -63,6 +63,8 @@ public class SOFTSourceLatency {
      */
     public static final int AL_SEC_OFFSET_LATENCY_SOFT = 0x1201;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTSourceLatency.class, "alSourcedSOFT,alSource3dSOFT,alSourcedvSOFT,alGetSourcedSOFT,alGetSource3dSOFT,alGetSourcedvSOFT,alSourcei64SOFT,alSource3i64SOFT,alSourcei64vSOFT,alGetSourcei64SOFT,alGetSource3i64SOFT,alGetSourcei64vSOFT");
+
     protected SOFTSourceLatency() {
         throw new UnsupportedOperationException();
     }
@@ -89,7 +91,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ alSource3dSOFT ] ---
@@ -109,7 +113,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeV(source, param, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ alSourcedvSOFT ] ---
@@ -120,7 +126,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -146,7 +154,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -190,7 +200,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(source, param, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -220,7 +232,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -253,7 +267,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeJV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ alSource3i64SOFT ] ---
@@ -273,7 +289,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokeJJJV(source, param, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ alSourcei64vSOFT ] ---
@@ -284,7 +302,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -310,7 +330,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -354,7 +376,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(source, param, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -384,7 +408,9 @@ public class SOFTSourceLatency {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -410,7 +436,9 @@ public class SOFTSourceLatency {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #alGetSourcedSOFT GetSourcedSOFT} */
@@ -421,7 +449,9 @@ public class SOFTSourceLatency {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #alGetSource3dSOFT GetSource3dSOFT} */
@@ -434,7 +464,9 @@ public class SOFTSourceLatency {
             check(value2, 1);
             check(value3, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(source, param, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #alGetSourcedvSOFT GetSourcedvSOFT} */
@@ -445,7 +477,9 @@ public class SOFTSourceLatency {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #alSourcei64vSOFT Sourcei64vSOFT} */
@@ -456,7 +490,9 @@ public class SOFTSourceLatency {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #alGetSourcei64SOFT GetSourcei64SOFT} */
@@ -467,7 +503,9 @@ public class SOFTSourceLatency {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #alGetSource3i64SOFT GetSource3i64SOFT} */
@@ -480,7 +518,9 @@ public class SOFTSourceLatency {
             check(value2, 1);
             check(value3, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(source, param, value1, value2, value3, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #alGetSourcei64vSOFT GetSourcei64vSOFT} */
@@ -491,7 +531,9 @@ public class SOFTSourceLatency {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         invokePV(source, param, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
 }
\ No newline at end of file
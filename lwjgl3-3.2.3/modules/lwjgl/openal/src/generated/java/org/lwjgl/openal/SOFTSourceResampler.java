@@ -34,6 +34,8 @@ public class SOFTSourceResampler {
     /** Accepted as the {@code pname} parameter of {@link #alGetStringiSOFT GetStringiSOFT}. */
     public static final int AL_RESAMPLER_NAME_SOFT = 0x1213;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(SOFTSourceResampler.class, "alGetStringiSOFT");
+
     protected SOFTSourceResampler() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class SOFTSourceResampler {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return invokeP(pname, index, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(pname, index, __functionAddress));
     }
 
     @Nullable
@@ -33,6 +33,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class ALTERALiveObjectTracking {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ALTERALiveObjectTracking.class, "clTrackLiveObjectsAltera,clReportLiveObjectsAltera");
+
     protected ALTERALiveObjectTracking() {
         throw new UnsupportedOperationException();
     }
@@ -59,7 +61,9 @@ public class ALTERALiveObjectTracking {
             check(__functionAddress);
             check(platform);
         }
+        long __start = FunctionProfiler.start();
         callPV(platform, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ clReportLiveObjectsAltera ] ---
@@ -72,7 +76,9 @@ public class ALTERALiveObjectTracking {
             check(platform);
             check(user_data);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(platform, report_fn, user_data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
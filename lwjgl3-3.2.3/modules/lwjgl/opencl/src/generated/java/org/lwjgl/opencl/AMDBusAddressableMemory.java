@@ -53,6 +53,8 @@ public class AMDBusAddressableMemory {
         CL_COMMAND_WRITE_SIGNAL_AMD          = 0x4081,
         CL_COMMAND_MAKE_BUFFERS_RESIDENT_AMD = 0x4082;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDBusAddressableMemory.class, "clEnqueueWaitSignalAMD,clEnqueueWriteSignalAMD,clEnqueueMakeBuffersResidentAMD");
+
     protected AMDBusAddressableMemory() {
         throw new UnsupportedOperationException();
     }
@@ -77,7 +79,8 @@ public class AMDBusAddressableMemory {
             check(command_queue);
             check(mem_object);
         }
-        return callPPPPI(command_queue, mem_object, value, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(command_queue, mem_object, value, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -126,7 +129,8 @@ public class AMDBusAddressableMemory {
             check(command_queue);
             check(mem_object);
         }
-        return callPPJPPI(command_queue, mem_object, value, offset, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPJPPI(command_queue, mem_object, value, offset, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -180,7 +184,8 @@ public class AMDBusAddressableMemory {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPPI(command_queue, num_mem_objs, mem_objects, blocking_make_resident, bus_addresses, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPPI(command_queue, num_mem_objs, mem_objects, blocking_make_resident, bus_addresses, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
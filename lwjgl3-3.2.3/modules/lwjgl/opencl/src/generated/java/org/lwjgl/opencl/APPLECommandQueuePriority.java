@@ -25,6 +25,8 @@ public class APPLECommandQueuePriority {
         CL_QUEUE_PRIORITY_BACKGROUND_APPLE = 0x10000015,
         CL_QUEUE_PRIORITY_DEFAULT_APPLE    = 0x10000017;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(APPLECommandQueuePriority.class, "clCreateCommandQueueWithPropertiesAPPLE");
+
     protected APPLECommandQueuePriority() {
         throw new UnsupportedOperationException();
     }
@@ -45,7 +47,8 @@ public class APPLECommandQueuePriority {
             check(context);
             check(device);
         }
-        return callPPPPP(context, device, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, device, properties, errcode_ret, __functionAddress));
     }
 
     /** @param errcode_ret will return an appropriate error code. If {@code errcode_ret} is {@code NULL}, no error code is returned. */
@@ -69,7 +72,8 @@ public class APPLECommandQueuePriority {
             checkNT(properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, device, memAddress(properties), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, device, memAddress(properties), errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class APPLEGLSharing {
      */
     public static final int CL_CGL_DEVICE_FOR_CURRENT_VIRTUAL_SCREEN_APPLE = 0x10000002;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(APPLEGLSharing.class, "clGetGLContextInfoAPPLE");
+
     protected APPLEGLSharing() {
         throw new UnsupportedOperationException();
     }
@@ -67,7 +69,8 @@ public class APPLEGLSharing {
             check(context);
             check(platform_gl_ctx);
         }
-        return callPPPPPI(context, platform_gl_ctx, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPPI(context, platform_gl_ctx, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -363,6 +363,8 @@ public class CL10 {
         CL_PROFILING_COMMAND_START  = 0x1282,
         CL_PROFILING_COMMAND_END    = 0x1283;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL10.class, "clGetPlatformIDs,clGetPlatformInfo,clGetDeviceIDs,clGetDeviceInfo,clCreateContext,clCreateContextFromType,clRetainContext,clReleaseContext,clGetContextInfo,clCreateCommandQueue,clRetainCommandQueue,clReleaseCommandQueue,clGetCommandQueueInfo,clCreateBuffer,clEnqueueReadBuffer,clEnqueueWriteBuffer,clEnqueueCopyBuffer,clEnqueueMapBuffer,clCreateImage2D,clCreateImage3D,clGetSupportedImageFormats,clEnqueueReadImage,clEnqueueWriteImage,clEnqueueCopyImage,clEnqueueCopyImageToBuffer,clEnqueueCopyBufferToImage,clEnqueueMapImage,clGetImageInfo,clRetainMemObject,clReleaseMemObject,clEnqueueUnmapMemObject,clGetMemObjectInfo,clCreateSampler,clRetainSampler,clReleaseSampler,clGetSamplerInfo,clCreateProgramWithSource,clCreateProgramWithBinary,clRetainProgram,clReleaseProgram,clBuildProgram,clUnloadCompiler,clGetProgramInfo,clGetProgramBuildInfo,clCreateKernel,clCreateKernelsInProgram,clRetainKernel,clReleaseKernel,clSetKernelArg,clGetKernelInfo,clGetKernelWorkGroupInfo,clEnqueueNDRangeKernel,clEnqueueTask,clEnqueueNativeKernel,clWaitForEvents,clGetEventInfo,clRetainEvent,clReleaseEvent,clEnqueueMarker,clEnqueueBarrier,clEnqueueWaitForEvents,clGetEventProfilingInfo,clFlush,clFinish,clGetExtensionFunctionAddress");
+
     protected CL10() {
         throw new UnsupportedOperationException();
     }
@@ -394,7 +396,8 @@ public class CL10 {
      */
     public static int nclGetPlatformIDs(int num_entries, long platforms, long num_platforms) {
         long __functionAddress = CL.getICD().clGetPlatformIDs;
-        return callPPI(num_entries, platforms, num_platforms, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(num_entries, platforms, num_platforms, __functionAddress));
     }
 
     /**
@@ -435,7 +438,8 @@ public class CL10 {
         if (CHECKS) {
             check(platform);
         }
-        return callPPPPI(platform, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(platform, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -502,7 +506,8 @@ public class CL10 {
      */
     public static int nclGetDeviceIDs(long platform, long device_type, int num_entries, long devices, long num_devices) {
         long __functionAddress = CL.getICD().clGetDeviceIDs;
-        return callPJPPI(platform, device_type, num_entries, devices, num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPI(platform, device_type, num_entries, devices, num_devices, __functionAddress));
     }
 
     /**
@@ -549,7 +554,8 @@ public class CL10 {
         if (CHECKS) {
             check(device);
         }
-        return callPPPPI(device, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(device, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -681,7 +687,8 @@ public class CL10 {
      */
     public static long nclCreateContext(long properties, int num_devices, long devices, long pfn_notify, long user_data, long errcode_ret) {
         long __functionAddress = CL.getICD().clCreateContext;
-        return callPPPPPP(properties, num_devices, devices, pfn_notify, user_data, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPPP(properties, num_devices, devices, pfn_notify, user_data, errcode_ret, __functionAddress));
     }
 
     /**
@@ -780,7 +787,8 @@ public class CL10 {
     /** Unsafe version of: {@link #clCreateContextFromType CreateContextFromType} */
     public static long nclCreateContextFromType(long properties, long device_type, long pfn_notify, long user_data, long errcode_ret) {
         long __functionAddress = CL.getICD().clCreateContextFromType;
-        return callPJPPPP(properties, device_type, pfn_notify, user_data, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPJPPPP(properties, device_type, pfn_notify, user_data, errcode_ret, __functionAddress));
     }
 
     /**
@@ -831,7 +839,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPI(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPI(context, __functionAddress));
     }
 
     // --- [ clReleaseContext ] ---
@@ -860,7 +869,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPI(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPI(context, __functionAddress));
     }
 
     // --- [ clGetContextInfo ] ---
@@ -875,7 +885,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPPPPI(context, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPPI(context, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -971,7 +982,8 @@ public class CL10 {
             check(context);
             check(device);
         }
-        return callPPJPP(context, device, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPJPP(context, device, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1037,7 +1049,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPI(command_queue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPI(command_queue, __functionAddress));
     }
 
     // --- [ clReleaseCommandQueue ] ---
@@ -1068,7 +1081,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPI(command_queue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPI(command_queue, __functionAddress));
     }
 
     // --- [ clGetCommandQueueInfo ] ---
@@ -1083,7 +1097,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPPPPI(command_queue, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPPI(command_queue, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -1210,7 +1225,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPJPPPP(context, flags, size, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPJPPPP(context, flags, size, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1436,7 +1452,8 @@ public class CL10 {
             check(command_queue);
             check(buffer);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_read, offset, size, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPPPI(command_queue, buffer, blocking_read, offset, size, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -1788,7 +1805,8 @@ public class CL10 {
             check(command_queue);
             check(buffer);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_write, offset, size, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPPPPPI(command_queue, buffer, blocking_write, offset, size, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -2135,7 +2153,8 @@ public class CL10 {
             check(src_buffer);
             check(dst_buffer);
         }
-        return callPPPPPPPPI(command_queue, src_buffer, dst_buffer, src_offset, dst_offset, size, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPPPPPPPI(command_queue, src_buffer, dst_buffer, src_offset, dst_offset, size, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -2204,7 +2223,8 @@ public class CL10 {
             check(command_queue);
             check(buffer);
         }
-        return callPPJPPPPPP(command_queue, buffer, blocking_map, map_flags, offset, size, num_events_in_wait_list, event_wait_list, event, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPPJPPPPPP(command_queue, buffer, blocking_map, map_flags, offset, size, num_events_in_wait_list, event_wait_list, event, errcode_ret, __functionAddress));
     }
 
     /**
@@ -2293,7 +2313,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPJPPPPPPP(context, flags, image_format, image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPJPPPPPPP(context, flags, image_format, image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -2488,7 +2509,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPJPPPPPPPPP(context, flags, image_format, image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPJPPPPPPPPP(context, flags, image_format, image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -2715,7 +2737,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPJPPI(context, flags, image_type, num_entries, image_formats, num_image_formats, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPJPPI(context, flags, image_type, num_entries, image_formats, num_image_formats, __functionAddress));
     }
 
     /**
@@ -2770,7 +2793,8 @@ public class CL10 {
             check(command_queue);
             check(image);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_read, origin, region, row_pitch, slice_pitch, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPPPPI(command_queue, image, blocking_read, origin, region, row_pitch, slice_pitch, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -3241,7 +3265,8 @@ public class CL10 {
             check(command_queue);
             check(image);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_write, origin, region, input_row_pitch, input_slice_pitch, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPPPPPPPPI(command_queue, image, blocking_write, origin, region, input_row_pitch, input_slice_pitch, ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -3713,7 +3738,8 @@ public class CL10 {
             check(src_image);
             check(dst_image);
         }
-        return callPPPPPPPPI(command_queue, src_image, dst_image, src_origin, dst_origin, region, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPPPPPPPPI(command_queue, src_image, dst_image, src_origin, dst_origin, region, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -3812,7 +3838,8 @@ public class CL10 {
             check(src_image);
             check(dst_buffer);
         }
-        return callPPPPPPPPI(command_queue, src_image, dst_buffer, src_origin, region, dst_offset, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callPPPPPPPPI(command_queue, src_image, dst_buffer, src_origin, region, dst_offset, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -3898,7 +3925,8 @@ public class CL10 {
             check(src_buffer);
             check(dst_image);
         }
-        return callPPPPPPPPI(command_queue, src_buffer, dst_image, src_offset, dst_origin, region, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPPPPPPPPI(command_queue, src_buffer, dst_image, src_offset, dst_origin, region, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -3979,7 +4007,8 @@ public class CL10 {
             check(command_queue);
             check(image);
         }
-        return callPPJPPPPPPPP(command_queue, image, blocking_map, map_flags, origin, region, image_row_pitch, image_slice_pitch, num_events_in_wait_list, event_wait_list, event, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPPJPPPPPPPP(command_queue, image, blocking_map, map_flags, origin, region, image_row_pitch, image_slice_pitch, num_events_in_wait_list, event_wait_list, event, errcode_ret, __functionAddress));
     }
 
     /**
@@ -4199,7 +4228,8 @@ public class CL10 {
         if (CHECKS) {
             check(image);
         }
-        return callPPPPI(image, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPPPI(image, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -4311,7 +4341,8 @@ public class CL10 {
         if (CHECKS) {
             check(memobj);
         }
-        return callPI(memobj, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPI(memobj, __functionAddress));
     }
 
     // --- [ clReleaseMemObject ] ---
@@ -4341,7 +4372,8 @@ public class CL10 {
         if (CHECKS) {
             check(memobj);
         }
-        return callPI(memobj, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPI(memobj, __functionAddress));
     }
 
     // --- [ clEnqueueUnmapMemObject ] ---
@@ -4357,7 +4389,8 @@ public class CL10 {
             check(command_queue);
             check(memobj);
         }
-        return callPPPPPI(command_queue, memobj, mapped_ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPPPPPI(command_queue, memobj, mapped_ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -4416,7 +4449,8 @@ public class CL10 {
         if (CHECKS) {
             check(memobj);
         }
-        return callPPPPI(memobj, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPPPI(memobj, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -4539,7 +4573,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPPP(context, normalized_coords, addressing_mode, filter_mode, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callPPP(context, normalized_coords, addressing_mode, filter_mode, errcode_ret, __functionAddress));
     }
 
     /**
@@ -4601,7 +4636,8 @@ public class CL10 {
         if (CHECKS) {
             check(sampler);
         }
-        return callPI(sampler, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callPI(sampler, __functionAddress));
     }
 
     // --- [ clReleaseSampler ] ---
@@ -4628,7 +4664,8 @@ public class CL10 {
         if (CHECKS) {
             check(sampler);
         }
-        return callPI(sampler, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPI(sampler, __functionAddress));
     }
 
     // --- [ clGetSamplerInfo ] ---
@@ -4643,7 +4680,8 @@ public class CL10 {
         if (CHECKS) {
             check(sampler);
         }
-        return callPPPPI(sampler, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPPPI(sampler, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -4742,7 +4780,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPPPPP(context, count, strings, lengths, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPPPP(context, count, strings, lengths, errcode_ret, __functionAddress));
     }
 
     /**
@@ -4863,7 +4902,8 @@ public class CL10 {
         if (CHECKS) {
             check(context);
         }
-        return callPPPPPPP(context, num_devices, device_list, lengths, binaries, binary_status, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPPPPPP(context, num_devices, device_list, lengths, binaries, binary_status, errcode_ret, __functionAddress));
     }
 
     /**
@@ -5083,7 +5123,8 @@ public class CL10 {
         if (CHECKS) {
             check(program);
         }
-        return callPI(program, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPI(program, __functionAddress));
     }
 
     // --- [ clReleaseProgram ] ---
@@ -5110,7 +5151,8 @@ public class CL10 {
         if (CHECKS) {
             check(program);
         }
-        return callPI(program, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPI(program, __functionAddress));
     }
 
     // --- [ clBuildProgram ] ---
@@ -5125,7 +5167,8 @@ public class CL10 {
         if (CHECKS) {
             check(program);
         }
-        return callPPPPPI(program, num_devices, device_list, options, pfn_notify, user_data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPPPPI(program, num_devices, device_list, options, pfn_notify, user_data, __functionAddress));
     }
 
     /**
@@ -5314,7 +5357,8 @@ public class CL10 {
     @NativeType("cl_int")
     public static int clUnloadCompiler() {
         long __functionAddress = CL.getICD().clUnloadCompiler;
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callI(__functionAddress));
     }
 
     // --- [ clGetProgramInfo ] ---
@@ -5329,7 +5373,8 @@ public class CL10 {
         if (CHECKS) {
             check(program);
         }
-        return callPPPPI(program, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPPPPI(program, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -5435,7 +5480,8 @@ public class CL10 {
             check(program);
             check(device);
         }
-        return callPPPPPI(program, device, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPPPPPI(program, device, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -5536,7 +5582,8 @@ public class CL10 {
         if (CHECKS) {
             check(program);
         }
-        return callPPPP(program, kernel_name, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callPPPP(program, kernel_name, errcode_ret, __functionAddress));
     }
 
     /**
@@ -5643,7 +5690,8 @@ public class CL10 {
         if (CHECKS) {
             check(program);
         }
-        return callPPPI(program, num_kernels, kernels, num_kernels_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callPPPI(program, num_kernels, kernels, num_kernels_ret, __functionAddress));
     }
 
     /**
@@ -5700,7 +5748,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPI(kernel, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, callPI(kernel, __functionAddress));
     }
 
     // --- [ clReleaseKernel ] ---
@@ -5729,7 +5778,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPI(kernel, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callPI(kernel, __functionAddress));
     }
 
     // --- [ clSetKernelArg ] ---
@@ -5747,7 +5797,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPI(kernel, arg_index, arg_size, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPI(kernel, arg_index, arg_size, arg_value, __functionAddress));
     }
 
     /**
@@ -7633,7 +7684,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPPI(kernel, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPPPPI(kernel, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -7733,7 +7785,8 @@ public class CL10 {
             check(kernel);
             check(device);
         }
-        return callPPPPPI(kernel, device, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPPPPPI(kernel, device, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -7885,7 +7938,8 @@ public class CL10 {
             check(command_queue);
             check(kernel);
         }
-        return callPPPPPPPI(command_queue, kernel, work_dim, global_work_offset, global_work_size, local_work_size, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, callPPPPPPPI(command_queue, kernel, work_dim, global_work_offset, global_work_size, local_work_size, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -7992,7 +8046,8 @@ public class CL10 {
             check(command_queue);
             check(kernel);
         }
-        return callPPPPI(command_queue, kernel, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, callPPPPI(command_queue, kernel, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -8042,7 +8097,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPPPPPPPPI(command_queue, user_func, args, cb_args, num_mem_objects, mem_list, args_mem_loc, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, callPPPPPPPPI(command_queue, user_func, args, cb_args, num_mem_objects, mem_list, args_mem_loc, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -8162,7 +8218,8 @@ public class CL10 {
      */
     public static int nclWaitForEvents(int num_events, long event_list) {
         long __functionAddress = CL.getICD().clWaitForEvents;
-        return callPI(num_events, event_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, callPI(num_events, event_list, __functionAddress));
     }
 
     /**
@@ -8229,7 +8286,8 @@ public class CL10 {
         if (CHECKS) {
             check(event);
         }
-        return callPPPPI(event, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, callPPPPI(event, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -8354,7 +8412,8 @@ public class CL10 {
         if (CHECKS) {
             check(event);
         }
-        return callPI(event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, callPI(event, __functionAddress));
     }
 
     // --- [ clReleaseEvent ] ---
@@ -8391,7 +8450,8 @@ public class CL10 {
         if (CHECKS) {
             check(event);
         }
-        return callPI(event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, callPI(event, __functionAddress));
     }
 
     // --- [ clEnqueueMarker ] ---
@@ -8402,7 +8462,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPPI(command_queue, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, callPPI(command_queue, event, __functionAddress));
     }
 
     /**
@@ -8459,7 +8520,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPI(command_queue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, callPI(command_queue, __functionAddress));
     }
 
     // --- [ clEnqueueWaitForEvents ] ---
@@ -8474,7 +8536,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPPI(command_queue, num_events, event_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, callPPI(command_queue, num_events, event_list, __functionAddress));
     }
 
     /**
@@ -8542,7 +8605,8 @@ public class CL10 {
         if (CHECKS) {
             check(event);
         }
-        return callPPPPI(event, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callPPPPI(event, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -8639,7 +8703,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPI(command_queue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, callPI(command_queue, __functionAddress));
     }
 
     // --- [ clFinish ] ---
@@ -8659,7 +8724,8 @@ public class CL10 {
         if (CHECKS) {
             check(command_queue);
         }
-        return callPI(command_queue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, callPI(command_queue, __functionAddress));
     }
 
     // --- [ clGetExtensionFunctionAddress ] ---
@@ -8667,7 +8733,8 @@ public class CL10 {
     /** Unsafe version of: {@link #clGetExtensionFunctionAddress GetExtensionFunctionAddress} */
     public static long nclGetExtensionFunctionAddress(long funcname) {
         long __functionAddress = CL.getICD().clGetExtensionFunctionAddress;
-        return callPP(funcname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, callPP(funcname, __functionAddress));
     }
 
     /**
@@ -8735,7 +8802,8 @@ public class CL10 {
         if (CHECKS) {
             checkSafe(num_platforms, 1);
         }
-        return callPPI(remainingSafe(platforms), memAddressSafe(platforms), num_platforms, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(remainingSafe(platforms), memAddressSafe(platforms), num_platforms, __functionAddress));
     }
 
     /**
@@ -8750,7 +8818,8 @@ public class CL10 {
             check(platform);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(platform, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(platform, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -8764,7 +8833,8 @@ public class CL10 {
         if (CHECKS) {
             checkSafe(num_devices, 1);
         }
-        return callPJPPI(platform, device_type, remainingSafe(devices), memAddressSafe(devices), num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPI(platform, device_type, remainingSafe(devices), memAddressSafe(devices), num_devices, __functionAddress));
     }
 
     /**
@@ -8779,7 +8849,8 @@ public class CL10 {
             check(device);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -8794,7 +8865,8 @@ public class CL10 {
             check(device);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -8809,7 +8881,8 @@ public class CL10 {
             checkNTSafe(properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPPP(memAddressSafe(properties), devices.remaining(), memAddress(devices), memAddressSafe(pfn_notify), user_data, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPPP(memAddressSafe(properties), devices.remaining(), memAddress(devices), memAddressSafe(pfn_notify), user_data, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8824,7 +8897,8 @@ public class CL10 {
             checkNTSafe(properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPP(memAddressSafe(properties), device_type, memAddressSafe(pfn_notify), user_data, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPJPPPP(memAddressSafe(properties), device_type, memAddressSafe(pfn_notify), user_data, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8839,7 +8913,8 @@ public class CL10 {
             check(context);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(context, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPPI(context, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -8855,7 +8930,8 @@ public class CL10 {
             check(device);
             checkSafe(errcode_ret, 1);
         }
-        return callPPJPP(context, device, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPJPP(context, device, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8870,7 +8946,8 @@ public class CL10 {
             check(command_queue);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(command_queue, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPPI(command_queue, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -8885,7 +8962,8 @@ public class CL10 {
             check(command_queue);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(command_queue, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPPI(command_queue, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -8900,7 +8978,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPP(context, flags, (long)host_ptr.remaining(), memAddress(host_ptr), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPJPPPP(context, flags, (long)host_ptr.remaining(), memAddress(host_ptr), errcode_ret, __functionAddress));
     }
 
     /**
@@ -8915,7 +8994,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 1, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 1, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8930,7 +9010,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 2, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 2, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8945,7 +9026,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 2, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 2, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8960,7 +9042,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 3, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPJPPPP(context, flags, Integer.toUnsignedLong(host_ptr.length) << 3, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -8977,7 +9060,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 1, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 1, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -8994,7 +9078,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9011,7 +9096,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9028,7 +9114,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 3, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPPPI(command_queue, buffer, blocking_read ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 3, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9045,7 +9132,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 1, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 1, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9062,7 +9150,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9079,7 +9168,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 2, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9096,7 +9186,8 @@ public class CL10 {
             check(buffer);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 3, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPPPPPPI(command_queue, buffer, blocking_write ? 1 : 0, offset, Integer.toUnsignedLong(ptr.length) << 3, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9114,7 +9205,8 @@ public class CL10 {
             checkSafe(event, 1);
             checkSafe(errcode_ret, 1);
         }
-        long __result = callPPJPPPPPP(command_queue, buffer, blocking_map ? 1 : 0, map_flags, offset, size, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 17, __start, callPPJPPPPPP(command_queue, buffer, blocking_map ? 1 : 0, map_flags, offset, size, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), errcode_ret, __functionAddress));
         return apiGetMappedBuffer(old_buffer, __result, (int)size);
     }
 
@@ -9130,7 +9222,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, memAddressSafe(host_ptr), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, memAddressSafe(host_ptr), errcode_ret, __functionAddress));
     }
 
     /**
@@ -9145,7 +9238,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9160,7 +9254,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9175,7 +9270,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPJPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_row_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9190,7 +9286,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, memAddressSafe(host_ptr), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, memAddressSafe(host_ptr), errcode_ret, __functionAddress));
     }
 
     /**
@@ -9205,7 +9302,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9220,7 +9318,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9235,7 +9334,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPJPPPPPPPPP(context, flags, image_format.address(), image_width, image_height, image_depth, image_row_pitch, image_slice_pitch, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9250,7 +9350,8 @@ public class CL10 {
             check(context);
             checkSafe(num_image_formats, 1);
         }
-        return callPJPPI(context, flags, image_type, remainingSafe(image_formats), memAddressSafe(image_formats), num_image_formats, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPJPPI(context, flags, image_type, remainingSafe(image_formats), memAddressSafe(image_formats), num_image_formats, __functionAddress));
     }
 
     /**
@@ -9269,7 +9370,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9288,7 +9390,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9307,7 +9410,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9326,7 +9430,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPPPPI(command_queue, image, blocking_read ? 1 : 0, memAddress(origin), memAddress(region), row_pitch, slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9345,7 +9450,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9364,7 +9470,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9383,7 +9490,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9402,7 +9510,8 @@ public class CL10 {
             check(region, 3);
             checkSafe(event, 1);
         }
-        return callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPPPPPPPPI(command_queue, image, blocking_write ? 1 : 0, memAddress(origin), memAddress(region), input_row_pitch, input_slice_pitch, ptr, remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -9424,7 +9533,8 @@ public class CL10 {
             checkSafe(event, 1);
             checkSafe(errcode_ret, 1);
         }
-        long __result = callPPJPPPPPPPP(command_queue, image, blocking_map ? 1 : 0, map_flags, memAddress(origin), memAddress(region), memAddress(image_row_pitch), memAddressSafe(image_slice_pitch), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 26, __start, callPPJPPPPPPPP(command_queue, image, blocking_map ? 1 : 0, map_flags, memAddress(origin), memAddress(region), memAddress(image_row_pitch), memAddressSafe(image_slice_pitch), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), errcode_ret, __functionAddress));
         int length = (int)getMemObjectInfoPointer(image, CL_MEM_SIZE);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -9448,7 +9558,8 @@ public class CL10 {
             checkSafe(event, 1);
             checkSafe(errcode_ret, 1);
         }
-        long __result = callPPJPPPPPPPP(command_queue, image, blocking_map ? 1 : 0, map_flags, memAddress(origin), memAddress(region), memAddress(image_row_pitch), memAddressSafe(image_slice_pitch), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 26, __start, callPPJPPPPPPPP(command_queue, image, blocking_map ? 1 : 0, map_flags, memAddress(origin), memAddress(region), memAddress(image_row_pitch), memAddressSafe(image_slice_pitch), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), errcode_ret, __functionAddress));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -9464,7 +9575,8 @@ public class CL10 {
             check(image);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(image, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPPPI(image, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9479,7 +9591,8 @@ public class CL10 {
             check(memobj);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(memobj, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPPPI(memobj, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9494,7 +9607,8 @@ public class CL10 {
             check(memobj);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(memobj, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPPPI(memobj, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9509,7 +9623,8 @@ public class CL10 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPPP(context, normalized_coords ? 1 : 0, addressing_mode, filter_mode, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callPPP(context, normalized_coords ? 1 : 0, addressing_mode, filter_mode, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9524,7 +9639,8 @@ public class CL10 {
             check(sampler);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(sampler, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPPPI(sampler, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9540,7 +9656,8 @@ public class CL10 {
             checkSafe(lengths, strings.remaining());
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, strings.remaining(), memAddress(strings), memAddressSafe(lengths), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPPPP(context, strings.remaining(), memAddress(strings), memAddressSafe(lengths), errcode_ret, __functionAddress));
     }
 
     /**
@@ -9558,7 +9675,8 @@ public class CL10 {
             checkSafe(binary_status, binaries.remaining());
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPPPP(context, binaries.remaining(), memAddress(device_list), memAddress(lengths), memAddress(binaries), binary_status, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPPPPPP(context, binaries.remaining(), memAddress(device_list), memAddress(lengths), memAddress(binaries), binary_status, errcode_ret, __functionAddress));
     }
 
     /**
@@ -9573,7 +9691,8 @@ public class CL10 {
             check(program);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(program, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPPPPI(program, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9589,7 +9708,8 @@ public class CL10 {
             check(device);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPPI(program, device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPPPPPI(program, device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9605,7 +9725,8 @@ public class CL10 {
             checkNT1(kernel_name);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPP(program, memAddress(kernel_name), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callPPPP(program, memAddress(kernel_name), errcode_ret, __functionAddress));
     }
 
     /**
@@ -9624,7 +9745,8 @@ public class CL10 {
         try {
             stack.nASCII(kernel_name, true);
             long kernel_nameEncoded = stack.getPointerAddress();
-            return callPPPP(program, kernel_nameEncoded, errcode_ret, __functionAddress);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 44, __start, callPPPP(program, kernel_nameEncoded, errcode_ret, __functionAddress));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -9642,7 +9764,8 @@ public class CL10 {
             check(program);
             checkSafe(num_kernels_ret, 1);
         }
-        return callPPPI(program, remainingSafe(kernels), memAddressSafe(kernels), num_kernels_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callPPPI(program, remainingSafe(kernels), memAddressSafe(kernels), num_kernels_ret, __functionAddress));
     }
 
     /**
@@ -9656,7 +9779,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 1, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 1, arg_value, __functionAddress));
     }
 
     /**
@@ -9670,7 +9794,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 2, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 2, arg_value, __functionAddress));
     }
 
     /**
@@ -9684,7 +9809,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 3, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 3, arg_value, __functionAddress));
     }
 
     /**
@@ -9698,7 +9824,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 2, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 2, arg_value, __functionAddress));
     }
 
     /**
@@ -9712,7 +9839,8 @@ public class CL10 {
         if (CHECKS) {
             check(kernel);
         }
-        return callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 3, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callPPPI(kernel, arg_index, Integer.toUnsignedLong(arg_value.length) << 3, arg_value, __functionAddress));
     }
 
     /**
@@ -9727,7 +9855,8 @@ public class CL10 {
             check(kernel);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(kernel, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPPPPI(kernel, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9743,7 +9872,8 @@ public class CL10 {
             check(device);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPPI(kernel, device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPPPPPI(kernel, device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9759,7 +9889,8 @@ public class CL10 {
             check(device);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPPI(kernel, device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPPPPPI(kernel, device, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9774,7 +9905,8 @@ public class CL10 {
             check(event);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(event, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, callPPPPI(event, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -9789,7 +9921,8 @@ public class CL10 {
             check(event);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(event, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callPPPPI(event, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     private static long getMemObjectInfoPointer(long cl_mem, int param_name) {
@@ -74,6 +74,8 @@ public class CL10GL {
         CL_GL_TEXTURE_TARGET = 0x2004,
         CL_GL_MIPMAP_LEVEL   = 0x2005;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL10GL.class, "clCreateFromGLBuffer,clCreateFromGLTexture2D,clCreateFromGLTexture3D,clCreateFromGLRenderbuffer,clGetGLObjectInfo,clGetGLTextureInfo,clEnqueueAcquireGLObjects,clEnqueueReleaseGLObjects");
+
     protected CL10GL() {
         throw new UnsupportedOperationException();
     }
@@ -94,7 +96,8 @@ public class CL10GL {
             check(__functionAddress);
             check(context);
         }
-        return callPJPP(context, flags, bufobj, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPP(context, flags, bufobj, errcode_ret, __functionAddress));
     }
 
     /**
@@ -143,7 +146,8 @@ public class CL10GL {
             check(__functionAddress);
             check(context);
         }
-        return callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress));
     }
 
     /**
@@ -203,7 +207,8 @@ public class CL10GL {
             check(__functionAddress);
             check(context);
         }
-        return callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress));
     }
 
     /**
@@ -262,7 +267,8 @@ public class CL10GL {
             check(__functionAddress);
             check(context);
         }
-        return callPJPP(context, flags, renderbuffer, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPP(context, flags, renderbuffer, errcode_ret, __functionAddress));
     }
 
     /**
@@ -313,7 +319,8 @@ public class CL10GL {
             check(__functionAddress);
             check(memobj);
         }
-        return callPPPI(memobj, gl_object_type, gl_object_name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(memobj, gl_object_type, gl_object_name, __functionAddress));
     }
 
     /**
@@ -357,7 +364,8 @@ public class CL10GL {
             check(__functionAddress);
             check(memobj);
         }
-        return callPPPPI(memobj, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPI(memobj, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -430,7 +438,8 @@ public class CL10GL {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -550,7 +559,8 @@ public class CL10GL {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -661,7 +671,8 @@ public class CL10GL {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPP(context, flags, bufobj, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPP(context, flags, bufobj, errcode_ret, __functionAddress));
     }
 
     /**
@@ -677,7 +688,8 @@ public class CL10GL {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress));
     }
 
     /**
@@ -693,7 +705,8 @@ public class CL10GL {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress));
     }
 
     /**
@@ -709,7 +722,8 @@ public class CL10GL {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPP(context, flags, renderbuffer, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPP(context, flags, renderbuffer, errcode_ret, __functionAddress));
     }
 
     /**
@@ -726,7 +740,8 @@ public class CL10GL {
             checkSafe(gl_object_type, 1);
             checkSafe(gl_object_name, 1);
         }
-        return callPPPI(memobj, gl_object_type, gl_object_name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPI(memobj, gl_object_type, gl_object_name, __functionAddress));
     }
 
     /**
@@ -742,7 +757,8 @@ public class CL10GL {
             check(memobj);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(memobj, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPI(memobj, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -199,6 +199,8 @@ public class CL12 extends CL11 {
         CL_COMMAND_FILL_BUFFER         = 0x1207,
         CL_COMMAND_FILL_IMAGE          = 0x1208;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL12.class, "clGetExtensionFunctionAddressForPlatform,clRetainDevice,clReleaseDevice,clCreateSubDevices,clCreateImage,clCreateProgramWithBuiltInKernels,clCompileProgram,clLinkProgram,clUnloadPlatformCompiler,clGetKernelArgInfo,clEnqueueFillBuffer,clEnqueueFillImage,clEnqueueMigrateMemObjects,clEnqueueMarkerWithWaitList,clEnqueueBarrierWithWaitList");
+
     protected CL12() {
         throw new UnsupportedOperationException();
     }
@@ -221,7 +223,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(platform);
         }
-        return callPPP(platform, funcname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(platform, funcname, __functionAddress));
     }
 
     /**
@@ -303,7 +306,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(device);
         }
-        return callPI(device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(device, __functionAddress));
     }
 
     // --- [ clReleaseDevice ] ---
@@ -334,7 +338,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(device);
         }
-        return callPI(device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(device, __functionAddress));
     }
 
     // --- [ clCreateSubDevices ] ---
@@ -350,7 +355,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(in_device);
         }
-        return callPPPPI(in_device, properties, num_devices, out_devices, num_devices_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(in_device, properties, num_devices, out_devices, num_devices_ret, __functionAddress));
     }
 
     /**
@@ -417,7 +423,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(context);
         }
-        return callPJPPPPP(context, flags, image_format, image_desc, host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPPP(context, flags, image_format, image_desc, host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -749,7 +756,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(context);
         }
-        return callPPPPP(context, num_devices, device_list, kernel_names, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPP(context, num_devices, device_list, kernel_names, errcode_ret, __functionAddress));
     }
 
     /**
@@ -882,7 +890,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPPPPPI(program, num_devices, device_list, options, num_input_headers, input_headers, header_include_names, pfn_notify, user_data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPPPPPI(program, num_devices, device_list, options, num_input_headers, input_headers, header_include_names, pfn_notify, user_data, __functionAddress));
     }
 
     /**
@@ -1025,7 +1034,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(context);
         }
-        return callPPPPPPP(context, num_devices, device_list, options, num_input_programs, input_programs, pfn_notify, user_data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPPPPP(context, num_devices, device_list, options, num_input_programs, input_programs, pfn_notify, user_data, __functionAddress));
     }
 
     /**
@@ -1286,7 +1296,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(platform);
         }
-        return callPI(platform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPI(platform, __functionAddress));
     }
 
     // --- [ clGetKernelArgInfo ] ---
@@ -1302,7 +1313,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(kernel);
         }
-        return callPPPPI(kernel, arg_indx, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPPI(kernel, arg_indx, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -1416,7 +1428,8 @@ public class CL12 extends CL11 {
             check(command_queue);
             check(buffer);
         }
-        return callPPPPPPPPI(command_queue, buffer, pattern, pattern_size, offset, size, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPPPPPPPI(command_queue, buffer, pattern, pattern_size, offset, size, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -1485,7 +1498,8 @@ public class CL12 extends CL11 {
             check(command_queue);
             check(image);
         }
-        return callPPPPPPPI(command_queue, image, fill_color, origin, region, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPPPPPI(command_queue, image, fill_color, origin, region, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -1682,7 +1696,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPJPPI(command_queue, num_mem_objects, mem_objects, flags, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPJPPI(command_queue, num_mem_objects, mem_objects, flags, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -1752,7 +1767,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPI(command_queue, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(command_queue, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -1804,7 +1820,8 @@ public class CL12 extends CL11 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPI(command_queue, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPI(command_queue, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -1857,7 +1874,8 @@ public class CL12 extends CL11 {
             checkNT(properties);
             checkSafe(num_devices_ret, 1);
         }
-        return callPPPPI(in_device, memAddress(properties), remainingSafe(out_devices), memAddressSafe(out_devices), num_devices_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(in_device, memAddress(properties), remainingSafe(out_devices), memAddressSafe(out_devices), num_devices_ret, __functionAddress));
     }
 
     /**
@@ -1873,7 +1891,8 @@ public class CL12 extends CL11 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPP(context, flags, image_format.address(), image_desc.address(), memAddressSafe(host_ptr), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPPP(context, flags, image_format.address(), image_desc.address(), memAddressSafe(host_ptr), errcode_ret, __functionAddress));
     }
 
     /**
@@ -1889,7 +1908,8 @@ public class CL12 extends CL11 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPP(context, flags, image_format.address(), image_desc.address(), host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPPP(context, flags, image_format.address(), image_desc.address(), host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1905,7 +1925,8 @@ public class CL12 extends CL11 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPP(context, flags, image_format.address(), image_desc.address(), host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPPP(context, flags, image_format.address(), image_desc.address(), host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1921,7 +1942,8 @@ public class CL12 extends CL11 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPPPP(context, flags, image_format.address(), image_desc.address(), host_ptr, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPPP(context, flags, image_format.address(), image_desc.address(), host_ptr, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1938,7 +1960,8 @@ public class CL12 extends CL11 {
             checkNT1(kernel_names);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, device_list.remaining(), memAddress(device_list), memAddress(kernel_names), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPP(context, device_list.remaining(), memAddress(device_list), memAddress(kernel_names), errcode_ret, __functionAddress));
     }
 
     /**
@@ -1958,7 +1981,8 @@ public class CL12 extends CL11 {
         try {
             stack.nASCII(kernel_names, true);
             long kernel_namesEncoded = stack.getPointerAddress();
-            return callPPPPP(context, device_list.remaining(), memAddress(device_list), kernel_namesEncoded, errcode_ret, __functionAddress);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPP(context, device_list.remaining(), memAddress(device_list), kernel_namesEncoded, errcode_ret, __functionAddress));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1977,7 +2001,8 @@ public class CL12 extends CL11 {
             check(kernel);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(kernel, arg_indx, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPPI(kernel, arg_indx, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -1993,7 +2018,8 @@ public class CL12 extends CL11 {
             check(kernel);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(kernel, arg_indx, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPPI(kernel, arg_indx, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 3, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -2013,7 +2039,8 @@ public class CL12 extends CL11 {
             check(region, 1);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, image, fill_color, memAddress(origin), memAddress(region), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPPPPPI(command_queue, image, fill_color, memAddress(origin), memAddress(region), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
     /**
@@ -2033,7 +2060,8 @@ public class CL12 extends CL11 {
             check(region, 1);
             checkSafe(event, 1);
         }
-        return callPPPPPPPI(command_queue, image, fill_color, memAddress(origin), memAddress(region), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPPPPPI(command_queue, image, fill_color, memAddress(origin), memAddress(region), remainingSafe(event_wait_list), memAddressSafe(event_wait_list), memAddressSafe(event), __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ public class CL12GL extends CL10GL {
         CL_GL_OBJECT_TEXTURE1D_ARRAY  = 0x2010,
         CL_GL_OBJECT_TEXTURE_BUFFER   = 0x2011;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL12GL.class, "clCreateFromGLTexture");
+
     protected CL12GL() {
         throw new UnsupportedOperationException();
     }
@@ -44,7 +46,8 @@ public class CL12GL extends CL10GL {
             check(__functionAddress);
             check(context);
         }
-        return callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress));
     }
 
     /**
@@ -118,7 +121,8 @@ public class CL12GL extends CL10GL {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPP(context, flags, texture_target, miplevel, texture, errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -115,6 +115,8 @@ public class CL20 extends CL12 {
     /** cl_profiling_info */
     public static final int CL_PROFILING_COMMAND_COMPLETE = 0x1284;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL20.class, "clCreateCommandQueueWithProperties,clCreatePipe,clGetPipeInfo,clSVMAlloc,clSVMFree,clEnqueueSVMFree,clEnqueueSVMMemcpy,clEnqueueSVMMemFill,clEnqueueSVMMap,clEnqueueSVMUnmap,clSetKernelArgSVMPointer,clSetKernelExecInfo,clCreateSamplerWithProperties");
+
     protected CL20() {
         throw new UnsupportedOperationException();
     }
@@ -137,7 +139,8 @@ public class CL20 extends CL12 {
             check(context);
             check(device);
         }
-        return callPPPPP(context, device, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, device, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -188,7 +191,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(context);
         }
-        return callPJPPP(context, flags, pipe_packet_size, pipe_max_packets, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPPP(context, flags, pipe_packet_size, pipe_max_packets, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -241,7 +245,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(pipe);
         }
-        return callPPPPI(pipe, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(pipe, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -309,7 +314,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(context);
         }
-        return callPJPP(context, flags, size, alignment, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPP(context, flags, size, alignment, __functionAddress));
     }
 
     /**
@@ -377,7 +383,9 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(context);
         }
+        long __start = FunctionProfiler.start();
         callPPV(context, svm_pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -415,7 +423,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPPPI(command_queue, num_svm_pointers, svm_pointers, pfn_free_func, user_data, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPPPI(command_queue, num_svm_pointers, svm_pointers, pfn_free_func, user_data, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -474,7 +483,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPPPI(command_queue, blocking_copy, dst_ptr, src_ptr, size, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPPPPI(command_queue, blocking_copy, dst_ptr, src_ptr, size, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -545,7 +555,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPPPPI(command_queue, svm_ptr, pattern, pattern_size, size, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPPPPPI(command_queue, svm_ptr, pattern, pattern_size, size, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -608,7 +619,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPJPPPPI(command_queue, blocking_map, map_flags, svm_ptr, size, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPJPPPPI(command_queue, blocking_map, map_flags, svm_ptr, size, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -673,7 +685,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, svm_ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPPPI(command_queue, svm_ptr, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -722,7 +735,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(kernel);
         }
-        return callPPI(kernel, arg_index, arg_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPI(kernel, arg_index, arg_value, __functionAddress));
     }
 
     /**
@@ -768,7 +782,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(kernel);
         }
-        return callPPPI(kernel, param_name, param_value_size, param_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPI(kernel, param_name, param_value_size, param_value, __functionAddress));
     }
 
     /**
@@ -939,7 +954,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(context);
         }
-        return callPPPP(context, sampler_properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPP(context, sampler_properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -989,7 +1005,8 @@ public class CL20 extends CL12 {
             checkNTSafe(properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, device, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, device, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1006,7 +1023,8 @@ public class CL20 extends CL12 {
             checkNTSafe(properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPP(context, flags, pipe_packet_size, pipe_max_packets, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPPP(context, flags, pipe_packet_size, pipe_max_packets, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -1022,7 +1040,8 @@ public class CL20 extends CL12 {
             check(pipe);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(pipe, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(pipe, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
     /**
@@ -1037,7 +1056,8 @@ public class CL20 extends CL12 {
             check(__functionAddress);
             check(kernel);
         }
-        return callPPPI(kernel, param_name, Integer.toUnsignedLong(param_value.length) << 2, param_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPI(kernel, param_name, Integer.toUnsignedLong(param_value.length) << 2, param_value, __functionAddress));
     }
 
     /**
@@ -1054,7 +1074,8 @@ public class CL20 extends CL12 {
             checkNTSafe(sampler_properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPP(context, sampler_properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPP(context, sampler_properties, errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
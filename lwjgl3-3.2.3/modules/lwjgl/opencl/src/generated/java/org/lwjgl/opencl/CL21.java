@@ -53,6 +53,8 @@ public class CL21 extends CL20 {
         CL_KERNEL_SUB_GROUP_COUNT_FOR_NDRANGE    = 0x2034,
         CL_KERNEL_LOCAL_SIZE_FOR_SUB_GROUP_COUNT = 0x11B8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL21.class, "clSetDefaultDeviceCommandQueue,clGetDeviceAndHostTimer,clGetHostTimer,clCreateProgramWithIL,clCloneKernel,clGetKernelSubGroupInfo,clEnqueueSVMMigrateMem");
+
     protected CL21() {
         throw new UnsupportedOperationException();
     }
@@ -94,7 +96,8 @@ public class CL21 extends CL20 {
             check(device);
             check(command_queue);
         }
-        return callPPPI(context, device, command_queue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(context, device, command_queue, __functionAddress));
     }
 
     // --- [ clGetDeviceAndHostTimer ] ---
@@ -106,7 +109,8 @@ public class CL21 extends CL20 {
             check(__functionAddress);
             check(device);
         }
-        return callPPPI(device, device_timestamp, host_timestamp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device, device_timestamp, host_timestamp, __functionAddress));
     }
 
     /**
@@ -151,7 +155,8 @@ public class CL21 extends CL20 {
             check(__functionAddress);
             check(device);
         }
-        return callPPI(device, host_timestamp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(device, host_timestamp, __functionAddress));
     }
 
     /**
@@ -197,7 +202,8 @@ public class CL21 extends CL20 {
             check(__functionAddress);
             check(context);
         }
-        return callPPPPP(context, il, length, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPP(context, il, length, errcode_ret, __functionAddress));
     }
 
     /**
@@ -238,7 +244,8 @@ public class CL21 extends CL20 {
             check(__functionAddress);
             check(source_kernel);
         }
-        return callPPP(source_kernel, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPP(source_kernel, errcode_ret, __functionAddress));
     }
 
     /**
@@ -294,7 +301,8 @@ public class CL21 extends CL20 {
             check(__functionAddress);
             check(kernel);
         }
-        return callPPPPPPPI(kernel, device, param_name, input_value_size, input_value, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPPPPI(kernel, device, param_name, input_value_size, input_value, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -382,7 +390,8 @@ public class CL21 extends CL20 {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPJPPI(command_queue, num_svm_pointers, svm_pointers, sizes, flags, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPJPPI(command_queue, num_svm_pointers, svm_pointers, sizes, flags, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -446,7 +455,8 @@ public class CL21 extends CL20 {
             check(device_timestamp, 1);
             check(host_timestamp, 1);
         }
-        return callPPPI(device, device_timestamp, host_timestamp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device, device_timestamp, host_timestamp, __functionAddress));
     }
 
     /**
@@ -462,7 +472,8 @@ public class CL21 extends CL20 {
             check(device);
             check(host_timestamp, 1);
         }
-        return callPPI(device, host_timestamp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(device, host_timestamp, __functionAddress));
     }
 
     /**
@@ -478,7 +489,8 @@ public class CL21 extends CL20 {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, memAddress(il), (long)il.remaining(), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPP(context, memAddress(il), (long)il.remaining(), errcode_ret, __functionAddress));
     }
 
     /**
@@ -494,7 +506,8 @@ public class CL21 extends CL20 {
             check(source_kernel);
             checkSafe(errcode_ret, 1);
         }
-        return callPPP(source_kernel, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPP(source_kernel, errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
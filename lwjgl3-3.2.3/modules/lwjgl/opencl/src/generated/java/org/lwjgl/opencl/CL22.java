@@ -29,6 +29,8 @@ public class CL22 extends CL21 {
         CL_PROGRAM_SCOPE_GLOBAL_CTORS_PRESENT = 0x116A,
         CL_PROGRAM_SCOPE_GLOBAL_DTORS_PRESENT = 0x116B;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CL22.class, "clSetProgramReleaseCallback,clSetProgramSpecializationConstant");
+
     protected CL22() {
         throw new UnsupportedOperationException();
     }
@@ -48,7 +50,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, pfn_notify, user_data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(program, pfn_notify, user_data, __functionAddress));
     }
 
     /**
@@ -86,7 +89,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, spec_id, spec_size, spec_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(program, spec_id, spec_size, spec_value, __functionAddress));
     }
 
     /**
@@ -311,7 +315,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 1, spec_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 1, spec_value, __functionAddress));
     }
 
     /**
@@ -326,7 +331,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 2, spec_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 2, spec_value, __functionAddress));
     }
 
     /**
@@ -341,7 +347,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 3, spec_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 3, spec_value, __functionAddress));
     }
 
     /**
@@ -356,7 +363,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 2, spec_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 2, spec_value, __functionAddress));
     }
 
     /**
@@ -371,7 +379,8 @@ public class CL22 extends CL21 {
             check(__functionAddress);
             check(program);
         }
-        return callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 3, spec_value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(program, spec_id, Integer.toUnsignedLong(spec_value.length) << 3, spec_value, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -211,6 +211,24 @@ public class CLBusAddressAMD extends Struct implements NativeResource {
         return wrap(CLBusAddressAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CLBusAddressAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLBusAddressAMD malloc(MemoryArena arena) {
+        return wrap(CLBusAddressAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CLBusAddressAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLBusAddressAMD calloc(MemoryArena arena) {
+        return wrap(CLBusAddressAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CLBusAddressAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -249,6 +267,26 @@ public class CLBusAddressAMD extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CLBusAddressAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLBusAddressAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CLBusAddressAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLBusAddressAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #surfbusaddress}. */
@@ -311,6 +349,24 @@ public class CLBusAddressAMD extends Struct implements NativeResource {
         /** Sets the specified value to the {@code signalbusaddress} field. */
         public CLBusAddressAMD.Buffer signalbusaddress(@NativeType("cl_long") long value) { CLBusAddressAMD.nsignalbusaddress(address(), value); return this; }
 
+        /** Copies the {@code surfbusaddress} field of the structs between the current position and limit to the specified array. */
+        public CLBusAddressAMD.Buffer getSurfbusaddress(long[] dst) { gather(CLBusAddressAMD.SURFBUSADDRESS, dst); return this; }
+        /** Copies the {@code surfbusaddress} field of the structs between the current position and limit to the specified buffer. */
+        public CLBusAddressAMD.Buffer getSurfbusaddress(LongBuffer dst) { gather(CLBusAddressAMD.SURFBUSADDRESS, dst); return this; }
+        /** Copies the {@code signalbusaddress} field of the structs between the current position and limit to the specified array. */
+        public CLBusAddressAMD.Buffer getSignalbusaddress(long[] dst) { gather(CLBusAddressAMD.SIGNALBUSADDRESS, dst); return this; }
+        /** Copies the {@code signalbusaddress} field of the structs between the current position and limit to the specified buffer. */
+        public CLBusAddressAMD.Buffer getSignalbusaddress(LongBuffer dst) { gather(CLBusAddressAMD.SIGNALBUSADDRESS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code surfbusaddress} field of the structs between the current position and limit. */
+        public CLBusAddressAMD.Buffer putSurfbusaddress(long[] src) { scatter(CLBusAddressAMD.SURFBUSADDRESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code surfbusaddress} field of the structs between the current position and limit. */
+        public CLBusAddressAMD.Buffer putSurfbusaddress(LongBuffer src) { scatter(CLBusAddressAMD.SURFBUSADDRESS, src); return this; }
+        /** Copies the values in the specified array to the {@code signalbusaddress} field of the structs between the current position and limit. */
+        public CLBusAddressAMD.Buffer putSignalbusaddress(long[] src) { scatter(CLBusAddressAMD.SIGNALBUSADDRESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code signalbusaddress} field of the structs between the current position and limit. */
+        public CLBusAddressAMD.Buffer putSignalbusaddress(LongBuffer src) { scatter(CLBusAddressAMD.SIGNALBUSADDRESS, src); return this; }
+
     }
 
 }
\ No newline at end of file
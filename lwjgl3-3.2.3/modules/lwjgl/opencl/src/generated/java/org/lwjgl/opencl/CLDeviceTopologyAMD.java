@@ -222,6 +222,24 @@ public class CLDeviceTopologyAMD extends Struct implements NativeResource {
         return wrap(CLDeviceTopologyAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CLDeviceTopologyAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLDeviceTopologyAMD malloc(MemoryArena arena) {
+        return wrap(CLDeviceTopologyAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CLDeviceTopologyAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLDeviceTopologyAMD calloc(MemoryArena arena) {
+        return wrap(CLDeviceTopologyAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CLDeviceTopologyAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class CLDeviceTopologyAMD extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CLDeviceTopologyAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLDeviceTopologyAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CLDeviceTopologyAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLDeviceTopologyAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #raw_type}. */
@@ -328,6 +328,24 @@ public class CLImageDesc extends Struct implements NativeResource {
         return wrap(CLImageDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CLImageDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLImageDesc malloc(MemoryArena arena) {
+        return wrap(CLImageDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CLImageDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLImageDesc calloc(MemoryArena arena) {
+        return wrap(CLImageDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CLImageDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -366,6 +384,26 @@ public class CLImageDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CLImageDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLImageDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CLImageDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLImageDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #image_type}. */
@@ -500,6 +538,32 @@ public class CLImageDesc extends Struct implements NativeResource {
         /** Sets the specified value to the {@code buffer} field. */
         public CLImageDesc.Buffer buffer(@NativeType("cl_mem") long value) { CLImageDesc.nbuffer(address(), value); return this; }
 
+        /** Copies the {@code image_type} field of the structs between the current position and limit to the specified array. */
+        public CLImageDesc.Buffer getImage_type(int[] dst) { gather(CLImageDesc.IMAGE_TYPE, dst); return this; }
+        /** Copies the {@code image_type} field of the structs between the current position and limit to the specified buffer. */
+        public CLImageDesc.Buffer getImage_type(IntBuffer dst) { gather(CLImageDesc.IMAGE_TYPE, dst); return this; }
+        /** Copies the {@code num_mip_levels} field of the structs between the current position and limit to the specified array. */
+        public CLImageDesc.Buffer getNum_mip_levels(int[] dst) { gather(CLImageDesc.NUM_MIP_LEVELS, dst); return this; }
+        /** Copies the {@code num_mip_levels} field of the structs between the current position and limit to the specified buffer. */
+        public CLImageDesc.Buffer getNum_mip_levels(IntBuffer dst) { gather(CLImageDesc.NUM_MIP_LEVELS, dst); return this; }
+        /** Copies the {@code num_samples} field of the structs between the current position and limit to the specified array. */
+        public CLImageDesc.Buffer getNum_samples(int[] dst) { gather(CLImageDesc.NUM_SAMPLES, dst); return this; }
+        /** Copies the {@code num_samples} field of the structs between the current position and limit to the specified buffer. */
+        public CLImageDesc.Buffer getNum_samples(IntBuffer dst) { gather(CLImageDesc.NUM_SAMPLES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code image_type} field of the structs between the current position and limit. */
+        public CLImageDesc.Buffer putImage_type(int[] src) { scatter(CLImageDesc.IMAGE_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image_type} field of the structs between the current position and limit. */
+        public CLImageDesc.Buffer putImage_type(IntBuffer src) { scatter(CLImageDesc.IMAGE_TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code num_mip_levels} field of the structs between the current position and limit. */
+        public CLImageDesc.Buffer putNum_mip_levels(int[] src) { scatter(CLImageDesc.NUM_MIP_LEVELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_mip_levels} field of the structs between the current position and limit. */
+        public CLImageDesc.Buffer putNum_mip_levels(IntBuffer src) { scatter(CLImageDesc.NUM_MIP_LEVELS, src); return this; }
+        /** Copies the values in the specified array to the {@code num_samples} field of the structs between the current position and limit. */
+        public CLImageDesc.Buffer putNum_samples(int[] src) { scatter(CLImageDesc.NUM_SAMPLES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_samples} field of the structs between the current position and limit. */
+        public CLImageDesc.Buffer putNum_samples(IntBuffer src) { scatter(CLImageDesc.NUM_SAMPLES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -213,6 +213,24 @@ public class CLImageFormat extends Struct implements NativeResource {
         return wrap(CLImageFormat.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CLImageFormat} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLImageFormat malloc(MemoryArena arena) {
+        return wrap(CLImageFormat.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CLImageFormat} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLImageFormat calloc(MemoryArena arena) {
+        return wrap(CLImageFormat.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CLImageFormat.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -251,6 +269,26 @@ public class CLImageFormat extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CLImageFormat.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLImageFormat.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CLImageFormat.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLImageFormat.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #image_channel_order}. */
@@ -313,6 +351,24 @@ public class CLImageFormat extends Struct implements NativeResource {
         /** Sets the specified value to the {@code image_channel_data_type} field. */
         public CLImageFormat.Buffer image_channel_data_type(@NativeType("cl_channel_type") int value) { CLImageFormat.nimage_channel_data_type(address(), value); return this; }
 
+        /** Copies the {@code image_channel_order} field of the structs between the current position and limit to the specified array. */
+        public CLImageFormat.Buffer getImage_channel_order(int[] dst) { gather(CLImageFormat.IMAGE_CHANNEL_ORDER, dst); return this; }
+        /** Copies the {@code image_channel_order} field of the structs between the current position and limit to the specified buffer. */
+        public CLImageFormat.Buffer getImage_channel_order(IntBuffer dst) { gather(CLImageFormat.IMAGE_CHANNEL_ORDER, dst); return this; }
+        /** Copies the {@code image_channel_data_type} field of the structs between the current position and limit to the specified array. */
+        public CLImageFormat.Buffer getImage_channel_data_type(int[] dst) { gather(CLImageFormat.IMAGE_CHANNEL_DATA_TYPE, dst); return this; }
+        /** Copies the {@code image_channel_data_type} field of the structs between the current position and limit to the specified buffer. */
+        public CLImageFormat.Buffer getImage_channel_data_type(IntBuffer dst) { gather(CLImageFormat.IMAGE_CHANNEL_DATA_TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code image_channel_order} field of the structs between the current position and limit. */
+        public CLImageFormat.Buffer putImage_channel_order(int[] src) { scatter(CLImageFormat.IMAGE_CHANNEL_ORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image_channel_order} field of the structs between the current position and limit. */
+        public CLImageFormat.Buffer putImage_channel_order(IntBuffer src) { scatter(CLImageFormat.IMAGE_CHANNEL_ORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code image_channel_data_type} field of the structs between the current position and limit. */
+        public CLImageFormat.Buffer putImage_channel_data_type(int[] src) { scatter(CLImageFormat.IMAGE_CHANNEL_DATA_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image_channel_data_type} field of the structs between the current position and limit. */
+        public CLImageFormat.Buffer putImage_channel_data_type(IntBuffer src) { scatter(CLImageFormat.IMAGE_CHANNEL_DATA_TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
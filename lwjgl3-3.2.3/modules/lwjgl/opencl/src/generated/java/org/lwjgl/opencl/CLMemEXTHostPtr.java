@@ -211,6 +211,24 @@ public class CLMemEXTHostPtr extends Struct implements NativeResource {
         return wrap(CLMemEXTHostPtr.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CLMemEXTHostPtr} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLMemEXTHostPtr malloc(MemoryArena arena) {
+        return wrap(CLMemEXTHostPtr.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CLMemEXTHostPtr} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLMemEXTHostPtr calloc(MemoryArena arena) {
+        return wrap(CLMemEXTHostPtr.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CLMemEXTHostPtr.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -249,6 +267,26 @@ public class CLMemEXTHostPtr extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CLMemEXTHostPtr.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLMemEXTHostPtr.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CLMemEXTHostPtr.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLMemEXTHostPtr.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #allocation_type}. */
@@ -311,6 +349,24 @@ public class CLMemEXTHostPtr extends Struct implements NativeResource {
         /** Sets the specified value to the {@code host_cache_policy} field. */
         public CLMemEXTHostPtr.Buffer host_cache_policy(@NativeType("cl_uint") int value) { CLMemEXTHostPtr.nhost_cache_policy(address(), value); return this; }
 
+        /** Copies the {@code allocation_type} field of the structs between the current position and limit to the specified array. */
+        public CLMemEXTHostPtr.Buffer getAllocation_type(int[] dst) { gather(CLMemEXTHostPtr.ALLOCATION_TYPE, dst); return this; }
+        /** Copies the {@code allocation_type} field of the structs between the current position and limit to the specified buffer. */
+        public CLMemEXTHostPtr.Buffer getAllocation_type(IntBuffer dst) { gather(CLMemEXTHostPtr.ALLOCATION_TYPE, dst); return this; }
+        /** Copies the {@code host_cache_policy} field of the structs between the current position and limit to the specified array. */
+        public CLMemEXTHostPtr.Buffer getHost_cache_policy(int[] dst) { gather(CLMemEXTHostPtr.HOST_CACHE_POLICY, dst); return this; }
+        /** Copies the {@code host_cache_policy} field of the structs between the current position and limit to the specified buffer. */
+        public CLMemEXTHostPtr.Buffer getHost_cache_policy(IntBuffer dst) { gather(CLMemEXTHostPtr.HOST_CACHE_POLICY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code allocation_type} field of the structs between the current position and limit. */
+        public CLMemEXTHostPtr.Buffer putAllocation_type(int[] src) { scatter(CLMemEXTHostPtr.ALLOCATION_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code allocation_type} field of the structs between the current position and limit. */
+        public CLMemEXTHostPtr.Buffer putAllocation_type(IntBuffer src) { scatter(CLMemEXTHostPtr.ALLOCATION_TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code host_cache_policy} field of the structs between the current position and limit. */
+        public CLMemEXTHostPtr.Buffer putHost_cache_policy(int[] src) { scatter(CLMemEXTHostPtr.HOST_CACHE_POLICY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code host_cache_policy} field of the structs between the current position and limit. */
+        public CLMemEXTHostPtr.Buffer putHost_cache_policy(IntBuffer src) { scatter(CLMemEXTHostPtr.HOST_CACHE_POLICY, src); return this; }
+
     }
 
 }
\ No newline at end of file
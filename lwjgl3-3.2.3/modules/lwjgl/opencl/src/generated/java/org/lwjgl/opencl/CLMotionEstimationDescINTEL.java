@@ -238,6 +238,24 @@ public class CLMotionEstimationDescINTEL extends Struct implements NativeResourc
         return wrap(CLMotionEstimationDescINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CLMotionEstimationDescINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLMotionEstimationDescINTEL malloc(MemoryArena arena) {
+        return wrap(CLMotionEstimationDescINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CLMotionEstimationDescINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CLMotionEstimationDescINTEL calloc(MemoryArena arena) {
+        return wrap(CLMotionEstimationDescINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CLMotionEstimationDescINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class CLMotionEstimationDescINTEL extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CLMotionEstimationDescINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLMotionEstimationDescINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CLMotionEstimationDescINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CLMotionEstimationDescINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mb_block_type}. */
@@ -356,6 +394,40 @@ public class CLMotionEstimationDescINTEL extends Struct implements NativeResourc
         /** Sets the specified value to the {@code search_path_type} field. */
         public CLMotionEstimationDescINTEL.Buffer search_path_type(@NativeType("cl_uint") int value) { CLMotionEstimationDescINTEL.nsearch_path_type(address(), value); return this; }
 
+        /** Copies the {@code mb_block_type} field of the structs between the current position and limit to the specified array. */
+        public CLMotionEstimationDescINTEL.Buffer getMb_block_type(int[] dst) { gather(CLMotionEstimationDescINTEL.MB_BLOCK_TYPE, dst); return this; }
+        /** Copies the {@code mb_block_type} field of the structs between the current position and limit to the specified buffer. */
+        public CLMotionEstimationDescINTEL.Buffer getMb_block_type(IntBuffer dst) { gather(CLMotionEstimationDescINTEL.MB_BLOCK_TYPE, dst); return this; }
+        /** Copies the {@code subpixel_mode} field of the structs between the current position and limit to the specified array. */
+        public CLMotionEstimationDescINTEL.Buffer getSubpixel_mode(int[] dst) { gather(CLMotionEstimationDescINTEL.SUBPIXEL_MODE, dst); return this; }
+        /** Copies the {@code subpixel_mode} field of the structs between the current position and limit to the specified buffer. */
+        public CLMotionEstimationDescINTEL.Buffer getSubpixel_mode(IntBuffer dst) { gather(CLMotionEstimationDescINTEL.SUBPIXEL_MODE, dst); return this; }
+        /** Copies the {@code sad_adjust_mode} field of the structs between the current position and limit to the specified array. */
+        public CLMotionEstimationDescINTEL.Buffer getSad_adjust_mode(int[] dst) { gather(CLMotionEstimationDescINTEL.SAD_ADJUST_MODE, dst); return this; }
+        /** Copies the {@code sad_adjust_mode} field of the structs between the current position and limit to the specified buffer. */
+        public CLMotionEstimationDescINTEL.Buffer getSad_adjust_mode(IntBuffer dst) { gather(CLMotionEstimationDescINTEL.SAD_ADJUST_MODE, dst); return this; }
+        /** Copies the {@code search_path_type} field of the structs between the current position and limit to the specified array. */
+        public CLMotionEstimationDescINTEL.Buffer getSearch_path_type(int[] dst) { gather(CLMotionEstimationDescINTEL.SEARCH_PATH_TYPE, dst); return this; }
+        /** Copies the {@code search_path_type} field of the structs between the current position and limit to the specified buffer. */
+        public CLMotionEstimationDescINTEL.Buffer getSearch_path_type(IntBuffer dst) { gather(CLMotionEstimationDescINTEL.SEARCH_PATH_TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code mb_block_type} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putMb_block_type(int[] src) { scatter(CLMotionEstimationDescINTEL.MB_BLOCK_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mb_block_type} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putMb_block_type(IntBuffer src) { scatter(CLMotionEstimationDescINTEL.MB_BLOCK_TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code subpixel_mode} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putSubpixel_mode(int[] src) { scatter(CLMotionEstimationDescINTEL.SUBPIXEL_MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code subpixel_mode} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putSubpixel_mode(IntBuffer src) { scatter(CLMotionEstimationDescINTEL.SUBPIXEL_MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code sad_adjust_mode} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putSad_adjust_mode(int[] src) { scatter(CLMotionEstimationDescINTEL.SAD_ADJUST_MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sad_adjust_mode} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putSad_adjust_mode(IntBuffer src) { scatter(CLMotionEstimationDescINTEL.SAD_ADJUST_MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code search_path_type} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putSearch_path_type(int[] src) { scatter(CLMotionEstimationDescINTEL.SEARCH_PATH_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code search_path_type} field of the structs between the current position and limit. */
+        public CLMotionEstimationDescINTEL.Buffer putSearch_path_type(IntBuffer src) { scatter(CLMotionEstimationDescINTEL.SEARCH_PATH_TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -85,6 +85,8 @@ public class EXTDeviceFission {
     /** Returned by clCreateSubDevicesEXT when a compute unit name appearing in a name list following CL_DEVICE_PARTITION_BY_NAMES_EXT is not in range. */
     public static final int CL_INVALID_PARTITION_NAME_EXT = -1059;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDeviceFission.class, "clReleaseDeviceEXT,clRetainDeviceEXT,clCreateSubDevicesEXT");
+
     protected EXTDeviceFission() {
         throw new UnsupportedOperationException();
     }
@@ -104,7 +106,8 @@ public class EXTDeviceFission {
             check(__functionAddress);
             check(device);
         }
-        return callPI(device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(device, __functionAddress));
     }
 
     // --- [ clRetainDeviceEXT ] ---
@@ -116,7 +119,8 @@ public class EXTDeviceFission {
             check(__functionAddress);
             check(device);
         }
-        return callPI(device, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(device, __functionAddress));
     }
 
     // --- [ clCreateSubDevicesEXT ] ---
@@ -127,7 +131,8 @@ public class EXTDeviceFission {
             check(__functionAddress);
             check(in_device);
         }
-        return callPPPPI(in_device, properties, num_entries, out_devices, num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(in_device, properties, num_entries, out_devices, num_devices, __functionAddress));
     }
 
     @NativeType("cl_int")
@@ -149,7 +154,8 @@ public class EXTDeviceFission {
             checkNT(properties);
             checkSafe(num_devices, 1);
         }
-        return callPPPPI(in_device, properties, remainingSafe(out_devices), memAddressSafe(out_devices), num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(in_device, properties, remainingSafe(out_devices), memAddressSafe(out_devices), num_devices, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ public class EXTMigrateMemobject {
     /** Returned in the {@code param_value} parameter of the clGetEventInfo when {@code param_name} is {@link CL10#CL_EVENT_COMMAND_TYPE EVENT_COMMAND_TYPE}. */
     public static final int CL_COMMAND_MIGRATE_MEM_OBJECT_EXT = 0x4040;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMigrateMemobject.class, "clEnqueueMigrateMemObjectEXT");
+
     protected EXTMigrateMemobject() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class EXTMigrateMemobject {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPJPPI(command_queue, num_mem_objects, mem_objects, flags, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPJPPI(command_queue, num_mem_objects, mem_objects, flags, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
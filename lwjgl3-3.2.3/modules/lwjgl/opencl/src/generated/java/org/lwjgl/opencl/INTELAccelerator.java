@@ -54,6 +54,8 @@ public class INTELAccelerator {
         CL_INVALID_ACCELERATOR_DESCRIPTOR_INTEL = -1096,
         CL_ACCELERATOR_TYPE_NOT_SUPPORTED_INTEL = -1097;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELAccelerator.class, "clCreateAcceleratorINTEL,clRetainAcceleratorINTEL,clReleaseAcceleratorINTEL,clGetAcceleratorInfoINTEL");
+
     protected INTELAccelerator() {
         throw new UnsupportedOperationException();
     }
@@ -77,7 +79,8 @@ public class INTELAccelerator {
             check(__functionAddress);
             check(context);
         }
-        return callPPPPP(context, accelerator_type, descriptor_size, descriptor, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, accelerator_type, descriptor_size, descriptor, errcode_ret, __functionAddress));
     }
 
     /**
@@ -142,7 +145,8 @@ public class INTELAccelerator {
             check(__functionAddress);
             check(accelerator);
         }
-        return callPI(accelerator, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(accelerator, __functionAddress));
     }
 
     // --- [ clReleaseAcceleratorINTEL ] ---
@@ -168,7 +172,8 @@ public class INTELAccelerator {
             check(__functionAddress);
             check(accelerator);
         }
-        return callPI(accelerator, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(accelerator, __functionAddress));
     }
 
     // --- [ clGetAcceleratorInfoINTEL ] ---
@@ -184,7 +189,8 @@ public class INTELAccelerator {
             check(__functionAddress);
             check(accelerator);
         }
-        return callPPPPI(accelerator, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(accelerator, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -274,7 +280,8 @@ public class INTELAccelerator {
             check(context);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, accelerator_type, (long)descriptor.remaining(), memAddress(descriptor), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, accelerator_type, (long)descriptor.remaining(), memAddress(descriptor), errcode_ret, __functionAddress));
     }
 
     /** Array version of: {@link #clGetAcceleratorInfoINTEL GetAcceleratorInfoINTEL} */
@@ -286,7 +293,8 @@ public class INTELAccelerator {
             check(accelerator);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPI(accelerator, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(accelerator, param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
 }
\ No newline at end of file
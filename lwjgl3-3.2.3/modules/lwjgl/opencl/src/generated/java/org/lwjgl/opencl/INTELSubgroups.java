@@ -52,6 +52,8 @@ public class INTELSubgroups {
         CL_KERNEL_MAX_SUB_GROUP_SIZE_FOR_NDRANGE_KHR = 0x2033,
         CL_KERNEL_SUB_GROUP_COUNT_FOR_NDRANGE_KHR    = 0x2034;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELSubgroups.class, "clGetKernelSubGroupInfoKHR");
+
     protected INTELSubgroups() {
         throw new UnsupportedOperationException();
     }
@@ -76,7 +78,8 @@ public class INTELSubgroups {
             check(__functionAddress);
             check(kernel);
         }
-        return callPPPPPPPI(kernel, device, param_name, input_value_size, input_value, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPPPPI(kernel, device, param_name, input_value_size, input_value, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -69,6 +69,8 @@ public class INTELVAAPIMediaSharing {
     /** Returned by {@link #clEnqueueReleaseVA_APIMediaSurfacesINTEL EnqueueReleaseVA_APIMediaSurfacesINTEL} when any of {@code mem_objects} are not currently acquired by OpenCL. */
     public static final int CL_VA_API_MEDIA_SURFACE_NOT_ACQUIRED_INTEL = -1101;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELVAAPIMediaSharing.class, "clGetDeviceIDsFromVA_APIMediaAdapterINTEL,clCreateFromVA_APIMediaSurfaceINTEL,clEnqueueAcquireVA_APIMediaSurfacesINTEL,clEnqueueReleaseVA_APIMediaSurfacesINTEL");
+
     protected INTELVAAPIMediaSharing() {
         throw new UnsupportedOperationException();
     }
@@ -95,7 +97,8 @@ public class INTELVAAPIMediaSharing {
             check(platform);
             check(media_adapter);
         }
-        return callPPPPI(platform, media_adapter_type, media_adapter, media_adapter_set, num_entries, devices, num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(platform, media_adapter_type, media_adapter, media_adapter_set, num_entries, devices, num_devices, __functionAddress));
     }
 
     /**
@@ -127,7 +130,8 @@ public class INTELVAAPIMediaSharing {
             check(__functionAddress);
             check(context);
         }
-        return callPJPPP(context, flags, surface, plane, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPPP(context, flags, surface, plane, errcode_ret, __functionAddress));
     }
 
     /**
@@ -162,7 +166,8 @@ public class INTELVAAPIMediaSharing {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -212,7 +217,8 @@ public class INTELVAAPIMediaSharing {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -258,7 +264,8 @@ public class INTELVAAPIMediaSharing {
             check(media_adapter);
             checkSafe(num_devices, 1);
         }
-        return callPPPPI(platform, media_adapter_type, media_adapter, media_adapter_set, remainingSafe(devices), memAddressSafe(devices), num_devices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(platform, media_adapter_type, media_adapter, media_adapter_set, remainingSafe(devices), memAddressSafe(devices), num_devices, __functionAddress));
     }
 
     /** Array version of: {@link #clCreateFromVA_APIMediaSurfaceINTEL CreateFromVA_APIMediaSurfaceINTEL} */
@@ -271,7 +278,8 @@ public class INTELVAAPIMediaSharing {
             check(surface, 1);
             checkSafe(errcode_ret, 1);
         }
-        return callPJPPP(context, flags, surface, plane, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPPP(context, flags, surface, plane, errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -30,6 +30,8 @@ public class KHREGLEvent {
     /** Returned by {@link CL10#clGetEventInfo GetEventInfo} when param_name is {@link CL10#CL_EVENT_COMMAND_TYPE EVENT_COMMAND_TYPE}. */
     public static final int CL_COMMAND_EGL_FENCE_SYNC_OBJECT_KHR = 0x202F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHREGLEvent.class, "clCreateEventFromEGLSyncKHR");
+
     protected KHREGLEvent() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class KHREGLEvent {
             check(sync);
             check(display);
         }
-        return callPPPPP(context, sync, display, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, sync, display, errcode_ret, __functionAddress));
     }
 
     /**
@@ -81,7 +84,8 @@ public class KHREGLEvent {
             check(display);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPPP(context, sync, display, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(context, sync, display, errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -35,6 +35,8 @@ public class KHREGLImage {
         CL_COMMAND_ACQUIRE_EGL_OBJECTS_KHR = 0x202D,
         CL_COMMAND_RELEASE_EGL_OBJECTS_KHR = 0x202E;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHREGLImage.class, "clCreateFromEGLImageKHR,clEnqueueAcquireEGLObjectsKHR,clEnqueueReleaseEGLObjectsKHR");
+
     protected KHREGLImage() {
         throw new UnsupportedOperationException();
     }
@@ -56,7 +58,8 @@ public class KHREGLImage {
             check(display);
             check(image);
         }
-        return callPPPJPPP(context, display, image, flags, properties, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPJPPP(context, display, image, flags, properties, errcode_ret, __functionAddress));
     }
 
     /**
@@ -91,7 +94,8 @@ public class KHREGLImage {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -130,7 +134,8 @@ public class KHREGLImage {
             check(__functionAddress);
             check(command_queue);
         }
-        return callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(command_queue, num_objects, mem_objects, num_events_in_wait_list, event_wait_list, event, __functionAddress));
     }
 
     /**
@@ -194,7 +199,8 @@ public class KHREGLImage {
             checkNTSafe(properties);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPJPPP(context, display, image, flags, memAddressSafe(properties), errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPJPPP(context, display, image, flags, memAddressSafe(properties), errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -30,6 +30,8 @@ public class KHRGLEvent {
     /** Returned by {@link CL10#clGetEventInfo GetEventInfo} when {@code param_name} is {@link CL10#CL_EVENT_COMMAND_TYPE EVENT_COMMAND_TYPE}. */
     public static final int CL_COMMAND_GL_FENCE_SYNC_OBJECT_KHR = 0x200D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRGLEvent.class, "clCreateEventFromGLsyncKHR");
+
     protected KHRGLEvent() {
         throw new UnsupportedOperationException();
     }
@@ -50,7 +52,8 @@ public class KHRGLEvent {
             check(context);
             check(sync);
         }
-        return callPPPP(context, sync, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(context, sync, errcode_ret, __functionAddress));
     }
 
     /**
@@ -78,7 +81,8 @@ public class KHRGLEvent {
             check(sync);
             checkSafe(errcode_ret, 1);
         }
-        return callPPPP(context, sync, errcode_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(context, sync, errcode_ret, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -44,6 +44,8 @@ public class KHRGLSharing {
         CL_WGL_HDC_KHR        = 0x200B,
         CL_CGL_SHAREGROUP_KHR = 0x200C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRGLSharing.class, "clGetGLContextInfoKHR");
+
     protected KHRGLSharing() {
         throw new UnsupportedOperationException();
     }
@@ -66,7 +68,8 @@ public class KHRGLSharing {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(properties, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(properties, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
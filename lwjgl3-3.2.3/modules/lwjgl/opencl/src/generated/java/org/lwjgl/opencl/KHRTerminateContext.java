@@ -35,6 +35,8 @@ public class KHRTerminateContext {
     /** Specifies whether the context can be terminated. The default value is {@link CL10#CL_FALSE FALSE}. */
     public static final int CL_CONTEXT_TERMINATE_KHR = 0x2010;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRTerminateContext.class, "clTerminateContextKHR");
+
     protected KHRTerminateContext() {
         throw new UnsupportedOperationException();
     }
@@ -84,7 +86,8 @@ public class KHRTerminateContext {
             check(__functionAddress);
             check(context);
         }
-        return callPI(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(context, __functionAddress));
     }
 
 }
\ No newline at end of file
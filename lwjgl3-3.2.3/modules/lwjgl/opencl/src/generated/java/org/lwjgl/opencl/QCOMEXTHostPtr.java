@@ -48,6 +48,8 @@ public class QCOMEXTHostPtr {
         CL_IMAGE_ROW_ALIGNMENT_QCOM   = 0x40A2,
         CL_IMAGE_SLICE_ALIGNMENT_QCOM = 0x40A3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(QCOMEXTHostPtr.class, "clGetDeviceImageInfoQCOM");
+
     protected QCOMEXTHostPtr() {
         throw new UnsupportedOperationException();
     }
@@ -71,7 +73,8 @@ public class QCOMEXTHostPtr {
             check(__functionAddress);
             check(device);
         }
-        return callPPPPPPPI(device, image_width, image_height, image_format, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPPPPI(device, image_width, image_height, image_format, param_name, param_value_size, param_value, param_value_size_ret, __functionAddress));
     }
 
     /**
@@ -123,7 +126,8 @@ public class QCOMEXTHostPtr {
             check(device);
             checkSafe(param_value_size_ret, 1);
         }
-        return callPPPPPPPI(device, image_width, image_height, image_format.address(), param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPPPPI(device, image_width, image_height, image_format.address(), param_name, Integer.toUnsignedLong(lengthSafe(param_value)) << 2, param_value, memAddressSafe(param_value_size_ret), __functionAddress));
     }
 
 }
\ No newline at end of file
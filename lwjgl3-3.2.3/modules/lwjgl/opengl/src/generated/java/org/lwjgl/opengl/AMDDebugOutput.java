@@ -72,6 +72,8 @@ public class AMDDebugOutput {
         GL_DEBUG_CATEGORY_APPLICATION_AMD        = 0x914F,
         GL_DEBUG_CATEGORY_OTHER_AMD              = 0x9150;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDDebugOutput.class, "glDebugMessageEnableAMD,glDebugMessageInsertAMD,glDebugMessageCallbackAMD,glGetDebugMessageLogAMD");
+
     static { GL.initialize(); }
 
     protected AMDDebugOutput() {
@@ -129,7 +131,9 @@ public class AMDDebugOutput {
      * @param enabled  whether to enable or disable the referenced subset of messages
      */
     public static void glDebugMessageEnableAMD(@NativeType("GLenum") int category, @NativeType("GLenum") int severity, @Nullable @NativeType("GLuint const *") IntBuffer ids, @NativeType("GLboolean") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageEnableAMD(category, severity, remainingSafe(ids), memAddressSafe(ids), enabled);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -170,7 +174,9 @@ public class AMDDebugOutput {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDebugMessageEnableAMD(category, severity, 1, memAddress(ids), enabled);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -202,7 +208,9 @@ public class AMDDebugOutput {
      * @param buf      the message characters
      */
     public static void glDebugMessageInsertAMD(@NativeType("GLenum") int category, @NativeType("GLenum") int severity, @NativeType("GLuint") int id, @NativeType("GLchar const *") ByteBuffer buf) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageInsertAMD(category, severity, id, buf.remaining(), memAddress(buf));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -226,7 +234,9 @@ public class AMDDebugOutput {
         try {
             int bufEncodedLength = stack.nUTF8(buf, false);
             long bufEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglDebugMessageInsertAMD(category, severity, id, bufEncodedLength, bufEncoded);
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -265,7 +275,9 @@ public class AMDDebugOutput {
      * @param userParam a user supplied pointer that will be passed on each invocation of {@code callback}
      */
     public static void glDebugMessageCallbackAMD(@Nullable @NativeType("GLDEBUGPROCAMD") GLDebugMessageAMDCallbackI callback, @NativeType("void *") long userParam) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageCallbackAMD(memAddressSafe(callback), userParam);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetDebugMessageLogAMD ] ---
@@ -309,7 +321,8 @@ public class AMDDebugOutput {
             checkSafe(ids, count);
             checkSafe(lengths, count);
         }
-        return nglGetDebugMessageLogAMD(count, remainingSafe(messageLog), memAddressSafe(categories), memAddressSafe(severities), memAddressSafe(ids), memAddressSafe(lengths), memAddressSafe(messageLog));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetDebugMessageLogAMD(count, remainingSafe(messageLog), memAddressSafe(categories), memAddressSafe(severities), memAddressSafe(ids), memAddressSafe(lengths), memAddressSafe(messageLog)));
     }
 
     /** Array version of: {@link #glDebugMessageEnableAMD DebugMessageEnableAMD} */
@@ -318,7 +331,9 @@ public class AMDDebugOutput {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(category, severity, lengthSafe(ids), ids, enabled, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetDebugMessageLogAMD GetDebugMessageLogAMD} */
@@ -332,7 +347,8 @@ public class AMDDebugOutput {
             checkSafe(ids, count);
             checkSafe(lengths, count);
         }
-        return callPPPPPI(count, remainingSafe(messageLog), categories, severities, ids, lengths, memAddressSafe(messageLog), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPPI(count, remainingSafe(messageLog), categories, severities, ids, lengths, memAddressSafe(messageLog), __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ public class AMDSamplePositions {
     /** Accepted by the {@code pname} parameter of GetFloatv. */
     public static final int GL_SUBSAMPLE_DISTANCE_AMD = 0x883F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDSamplePositions.class, "glSetMultisamplefvAMD");
+
     static { GL.initialize(); }
 
     protected AMDSamplePositions() {
@@ -48,7 +50,9 @@ public class AMDSamplePositions {
         if (CHECKS) {
             check(val, 2);
         }
+        long __start = FunctionProfiler.start();
         nglSetMultisamplefvAMD(pname, index, memAddress(val));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glSetMultisamplefvAMD SetMultisamplefvAMD} */
@@ -58,7 +62,9 @@ public class AMDSamplePositions {
             check(__functionAddress);
             check(val, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
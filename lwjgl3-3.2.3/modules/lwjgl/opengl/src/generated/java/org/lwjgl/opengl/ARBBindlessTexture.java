@@ -48,6 +48,8 @@ public class ARBBindlessTexture {
     /** Accepted by the {@code type} parameter of VertexAttribLPointer. */
     public static final int GL_UNSIGNED_INT64_ARB = 0x140F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBBindlessTexture.class, "glUniformHandleui64vARB,glProgramUniformHandleui64vARB,glVertexAttribL1ui64vARB,glGetVertexAttribLui64vARB");
+
     static { GL.initialize(); }
 
     protected ARBBindlessTexture() {
@@ -238,7 +240,9 @@ public class ARBBindlessTexture {
      * @param values   a buffer from which to load the handles
      */
     public static void glUniformHandleui64vARB(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer values) {
+        long __start = FunctionProfiler.start();
         nglUniformHandleui64vARB(location, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramUniformHandleui64ARB ] ---
@@ -269,7 +273,9 @@ public class ARBBindlessTexture {
      * @param values   a buffer from which to load the handles
      */
     public static void glProgramUniformHandleui64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer values) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformHandleui64vARB(program, location, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glIsTextureHandleResidentARB ] ---
@@ -317,7 +323,9 @@ public class ARBBindlessTexture {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL1ui64vARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetVertexAttribLui64vARB ] ---
@@ -336,7 +344,9 @@ public class ARBBindlessTexture {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribLui64vARB(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -350,7 +360,9 @@ public class ARBBindlessTexture {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribLui64vARB(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -363,7 +375,9 @@ public class ARBBindlessTexture {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glProgramUniformHandleui64vARB ProgramUniformHandleui64vARB} */
@@ -372,7 +386,9 @@ public class ARBBindlessTexture {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL1ui64vARB VertexAttribL1ui64vARB} */
@@ -382,7 +398,9 @@ public class ARBBindlessTexture {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribLui64vARB GetVertexAttribLui64vARB} */
@@ -392,7 +410,9 @@ public class ARBBindlessTexture {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
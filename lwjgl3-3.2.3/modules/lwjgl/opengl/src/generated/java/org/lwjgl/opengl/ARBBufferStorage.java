@@ -47,6 +47,8 @@ public class ARBBufferStorage {
     /** Accepted by the {@code barriers} parameter of {@link GL42C#glMemoryBarrier MemoryBarrier}. */
     public static final int GL_CLIENT_MAPPED_BUFFER_BARRIER_BIT = 0x4000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBBufferStorage.class, "glNamedBufferStorageEXT");
+
     static { GL.initialize(); }
 
     protected ARBBufferStorage() {
@@ -446,7 +448,9 @@ public class ARBBufferStorage {
      *               <p>It is an error to specify {@link #GL_MAP_COHERENT_BIT MAP_COHERENT_BIT} without also specifying {@link #GL_MAP_PERSISTENT_BIT MAP_PERSISTENT_BIT}.</p>
      */
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("GLsizeiptr") long size, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, size, NULL, flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -494,7 +498,9 @@ public class ARBBufferStorage {
      *               <p>It is an error to specify {@link #GL_MAP_COHERENT_BIT MAP_COHERENT_BIT} without also specifying {@link #GL_MAP_PERSISTENT_BIT MAP_PERSISTENT_BIT}.</p>
      */
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") ByteBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, data.remaining(), memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -542,7 +548,9 @@ public class ARBBufferStorage {
      *               <p>It is an error to specify {@link #GL_MAP_COHERENT_BIT MAP_COHERENT_BIT} without also specifying {@link #GL_MAP_PERSISTENT_BIT MAP_PERSISTENT_BIT}.</p>
      */
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") ShortBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -590,7 +598,9 @@ public class ARBBufferStorage {
      *               <p>It is an error to specify {@link #GL_MAP_COHERENT_BIT MAP_COHERENT_BIT} without also specifying {@link #GL_MAP_PERSISTENT_BIT MAP_PERSISTENT_BIT}.</p>
      */
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") IntBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -638,7 +648,9 @@ public class ARBBufferStorage {
      *               <p>It is an error to specify {@link #GL_MAP_COHERENT_BIT MAP_COHERENT_BIT} without also specifying {@link #GL_MAP_PERSISTENT_BIT MAP_PERSISTENT_BIT}.</p>
      */
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") FloatBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -686,7 +698,9 @@ public class ARBBufferStorage {
      *               <p>It is an error to specify {@link #GL_MAP_COHERENT_BIT MAP_COHERENT_BIT} without also specifying {@link #GL_MAP_PERSISTENT_BIT MAP_PERSISTENT_BIT}.</p>
      */
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") DoubleBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glBufferStorage BufferStorage} */
@@ -715,7 +729,9 @@ public class ARBBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 1, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedBufferStorageEXT NamedBufferStorageEXT} */
@@ -724,7 +740,9 @@ public class ARBBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedBufferStorageEXT NamedBufferStorageEXT} */
@@ -733,7 +751,9 @@ public class ARBBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedBufferStorageEXT NamedBufferStorageEXT} */
@@ -742,7 +762,9 @@ public class ARBBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 3, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -26,6 +26,8 @@ public class ARBCLEvent {
     /** Returned in {@code values} for {@link GL32C#glGetSynciv GetSynciv} {@code pname} {@link GL32#GL_SYNC_CONDITION SYNC_CONDITION}. */
     public static final int GL_SYNC_CL_EVENT_COMPLETE_ARB = 0x8241;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBCLEvent.class, "glCreateSyncFromCLeventARB");
+
     static { GL.initialize(); }
 
     protected ARBCLEvent() {
@@ -65,7 +67,8 @@ public class ARBCLEvent {
             check(context);
             check(event);
         }
-        return nglCreateSyncFromCLeventARB(context, event, flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglCreateSyncFromCLeventARB(context, event, flags));
     }
 
 }
\ No newline at end of file
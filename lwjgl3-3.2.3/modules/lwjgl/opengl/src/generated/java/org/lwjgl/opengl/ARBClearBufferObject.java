@@ -30,6 +30,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class ARBClearBufferObject {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBClearBufferObject.class, "glClearNamedBufferDataEXT,glClearNamedBufferSubDataEXT");
+
     static { GL.initialize(); }
 
     protected ARBClearBufferObject() {
@@ -202,7 +204,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferDataEXT(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -217,7 +221,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferDataEXT(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -232,7 +238,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferDataEXT(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -247,7 +255,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferDataEXT(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glClearNamedBufferSubDataEXT ] ---
@@ -269,7 +279,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubDataEXT(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -286,7 +298,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubDataEXT(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -303,7 +317,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubDataEXT(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -320,7 +336,9 @@ public class ARBClearBufferObject {
      *                       sub-range of the buffer is filled with zeros.
      */
     public static void glClearNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubDataEXT(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glClearBufferData ClearBufferData} */
@@ -359,7 +377,9 @@ public class ARBClearBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glClearNamedBufferDataEXT ClearNamedBufferDataEXT} */
@@ -368,7 +388,9 @@ public class ARBClearBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glClearNamedBufferDataEXT ClearNamedBufferDataEXT} */
@@ -377,7 +399,9 @@ public class ARBClearBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glClearNamedBufferSubDataEXT ClearNamedBufferSubDataEXT} */
@@ -386,7 +410,9 @@ public class ARBClearBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glClearNamedBufferSubDataEXT ClearNamedBufferSubDataEXT} */
@@ -395,7 +421,9 @@ public class ARBClearBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glClearNamedBufferSubDataEXT ClearNamedBufferSubDataEXT} */
@@ -404,7 +432,9 @@ public class ARBClearBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -137,6 +137,8 @@ public class ARBDebugOutput {
         GL_DEBUG_SEVERITY_MEDIUM_ARB = 0x9147,
         GL_DEBUG_SEVERITY_LOW_ARB    = 0x9148;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBDebugOutput.class, "glDebugMessageControlARB,glDebugMessageInsertARB,glDebugMessageCallbackARB,glGetDebugMessageLogARB");
+
     static { GL.initialize(); }
 
     protected ARBDebugOutput() {
@@ -186,7 +188,9 @@ public class ARBDebugOutput {
      * @param enabled  whether to enable or disable the references subset of messages
      */
     public static void glDebugMessageControlARB(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLenum") int severity, @Nullable @NativeType("GLuint const *") IntBuffer ids, @NativeType("GLboolean") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageControlARB(source, type, severity, remainingSafe(ids), memAddressSafe(ids), enabled);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -219,7 +223,9 @@ public class ARBDebugOutput {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDebugMessageControlARB(source, type, severity, 1, memAddress(ids), enabled);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -248,7 +254,9 @@ public class ARBDebugOutput {
      * @param buf      the string representation of the message
      */
     public static void glDebugMessageInsertARB(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLuint") int id, @NativeType("GLenum") int severity, @NativeType("GLchar const *") ByteBuffer buf) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageInsertARB(source, type, id, severity, buf.remaining(), memAddress(buf));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -269,7 +277,9 @@ public class ARBDebugOutput {
         try {
             int bufEncodedLength = stack.nUTF8(buf, false);
             long bufEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglDebugMessageInsertARB(source, type, id, severity, bufEncodedLength, bufEncoded);
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -319,7 +329,9 @@ public class ARBDebugOutput {
      * @param userParam a user supplied pointer that will be passed on each invocation of {@code callback}
      */
     public static void glDebugMessageCallbackARB(@Nullable @NativeType("GLDEBUGPROCARB") GLDebugMessageARBCallbackI callback, @NativeType("void const *") long userParam) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageCallbackARB(memAddressSafe(callback), userParam);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetDebugMessageLogARB ] ---
@@ -369,7 +381,8 @@ public class ARBDebugOutput {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return nglGetDebugMessageLogARB(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetDebugMessageLogARB(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog)));
     }
 
     /** Array version of: {@link #glDebugMessageControlARB DebugMessageControlARB} */
@@ -378,7 +391,9 @@ public class ARBDebugOutput {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(source, type, severity, lengthSafe(ids), ids, enabled, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetDebugMessageLogARB GetDebugMessageLogARB} */
@@ -393,7 +408,8 @@ public class ARBDebugOutput {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class ARBDrawBuffers {
         GL_DRAW_BUFFER14_ARB    = 0x8833,
         GL_DRAW_BUFFER15_ARB    = 0x8834;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBDrawBuffers.class, "glDrawBuffersARB");
+
     static { GL.initialize(); }
 
     protected ARBDrawBuffers() {
@@ -70,7 +72,9 @@ public class ARBDrawBuffers {
      * @param bufs a buffer of symbolic constants specifying the buffer to which each output color is written. One of:<br><table><tr><td>{@link GL11#GL_NONE NONE}</td><td>{@link GL11#GL_FRONT_LEFT FRONT_LEFT}</td><td>{@link GL11#GL_FRONT_RIGHT FRONT_RIGHT}</td><td>{@link GL11#GL_BACK_LEFT BACK_LEFT}</td><td>{@link GL11#GL_BACK_RIGHT BACK_RIGHT}</td><td>{@link GL11#GL_AUX0 AUX0}</td><td>{@link GL11#GL_AUX1 AUX1}</td><td>{@link GL11#GL_AUX2 AUX2}</td></tr><tr><td>{@link GL11#GL_AUX3 AUX3}</td><td>{@link GL30#GL_COLOR_ATTACHMENT0 COLOR_ATTACHMENT0}</td><td>GL30.GL_COLOR_ATTACHMENT[1-15]</td></tr></table>
      */
     public static void glDrawBuffersARB(@NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglDrawBuffersARB(bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glDrawBuffersARB DrawBuffersARB} */
@@ -79,7 +83,9 @@ public class ARBDrawBuffers {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
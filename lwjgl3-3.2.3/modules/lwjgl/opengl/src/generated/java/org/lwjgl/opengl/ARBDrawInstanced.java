@@ -32,6 +32,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class ARBDrawInstanced {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBDrawInstanced.class, "glDrawElementsInstancedARB");
+
     static { GL.initialize(); }
 
     protected ARBDrawInstanced() {
@@ -76,7 +78,9 @@ public class ARBDrawInstanced {
      * @param primcount the number of instances of the specified range of indices to be rendered
      */
     public static void glDrawElementsInstancedARB(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedARB(mode, count, type, indices, primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -88,7 +92,9 @@ public class ARBDrawInstanced {
      * @param primcount the number of instances of the specified range of indices to be rendered
      */
     public static void glDrawElementsInstancedARB(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedARB(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -99,7 +105,9 @@ public class ARBDrawInstanced {
      * @param primcount the number of instances of the specified range of indices to be rendered
      */
     public static void glDrawElementsInstancedARB(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedARB(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -110,7 +118,9 @@ public class ARBDrawInstanced {
      * @param primcount the number of instances of the specified range of indices to be rendered
      */
     public static void glDrawElementsInstancedARB(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedARB(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -121,7 +131,9 @@ public class ARBDrawInstanced {
      * @param primcount the number of instances of the specified range of indices to be rendered
      */
     public static void glDrawElementsInstancedARB(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedARB(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
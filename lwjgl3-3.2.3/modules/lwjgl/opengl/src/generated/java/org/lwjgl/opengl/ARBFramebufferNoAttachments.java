@@ -63,6 +63,8 @@ public class ARBFramebufferNoAttachments {
         GL_MAX_FRAMEBUFFER_LAYERS  = 0x9317,
         GL_MAX_FRAMEBUFFER_SAMPLES = 0x9318;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBFramebufferNoAttachments.class, "glGetNamedFramebufferParameterivEXT");
+
     static { GL.initialize(); }
 
     protected ARBFramebufferNoAttachments() {
@@ -146,7 +148,9 @@ public class ARBFramebufferNoAttachments {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedFramebufferParameterivEXT(framebuffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -160,7 +164,9 @@ public class ARBFramebufferNoAttachments {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedFramebufferParameterivEXT(framebuffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -179,7 +185,9 @@ public class ARBFramebufferNoAttachments {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -38,6 +38,8 @@ public class ARBGLSPIRV {
     /** Accepted by the {@code pname} parameter of {@link GL20C#glGetShaderiv GetShaderiv}. */
     public static final int GL_SPIR_V_BINARY_ARB = 0x9552;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBGLSPIRV.class, "glSpecializeShaderARB");
+
     static { GL.initialize(); }
 
     protected ARBGLSPIRV() {
@@ -94,7 +96,9 @@ public class ARBGLSPIRV {
             checkNT1(pEntryPoint);
             check(pConstantValue, pConstantIndex.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglSpecializeShaderARB(shader, memAddress(pEntryPoint), pConstantIndex.remaining(), memAddress(pConstantIndex), memAddress(pConstantValue));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -135,7 +139,9 @@ public class ARBGLSPIRV {
         try {
             stack.nUTF8(pEntryPoint, true);
             long pEntryPointEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglSpecializeShaderARB(shader, pEntryPointEncoded, pConstantIndex.remaining(), memAddress(pConstantIndex), memAddress(pConstantValue));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -149,7 +155,9 @@ public class ARBGLSPIRV {
             checkNT1(pEntryPoint);
             check(pConstantValue, pConstantIndex.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(shader, memAddress(pEntryPoint), pConstantIndex.length, pConstantIndex, pConstantValue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glSpecializeShaderARB SpecializeShaderARB} */
@@ -163,7 +171,9 @@ public class ARBGLSPIRV {
         try {
             stack.nUTF8(pEntryPoint, true);
             long pEntryPointEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             callPPPV(shader, pEntryPointEncoded, pConstantIndex.length, pConstantIndex, pConstantValue, __functionAddress);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -69,6 +69,8 @@ public class ARBGPUShaderFP64 {
         GL_DOUBLE_MAT4x2 = 0x8F4D,
         GL_DOUBLE_MAT4x3 = 0x8F4E;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBGPUShaderFP64.class, "glProgramUniform1dvEXT,glProgramUniform2dvEXT,glProgramUniform3dvEXT,glProgramUniform4dvEXT,glProgramUniformMatrix2dvEXT,glProgramUniformMatrix3dvEXT,glProgramUniformMatrix4dvEXT,glProgramUniformMatrix2x3dvEXT,glProgramUniformMatrix2x4dvEXT,glProgramUniformMatrix3x2dvEXT,glProgramUniformMatrix3x4dvEXT,glProgramUniformMatrix4x2dvEXT,glProgramUniformMatrix4x3dvEXT");
+
     static { GL.initialize(); }
 
     protected ARBGPUShaderFP64() {
@@ -515,7 +517,9 @@ public class ARBGPUShaderFP64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified uniform variable
      */
     public static void glProgramUniform1dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1dvEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramUniform2dvEXT ] ---
@@ -535,7 +539,9 @@ public class ARBGPUShaderFP64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified uniform variable
      */
     public static void glProgramUniform2dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2dvEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glProgramUniform3dvEXT ] ---
@@ -555,7 +561,9 @@ public class ARBGPUShaderFP64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified uniform variable
      */
     public static void glProgramUniform3dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3dvEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glProgramUniform4dvEXT ] ---
@@ -575,7 +583,9 @@ public class ARBGPUShaderFP64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified uniform variable
      */
     public static void glProgramUniform4dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4dvEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glProgramUniformMatrix2dvEXT ] ---
@@ -596,7 +606,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix2dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2dvEXT(program, location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glProgramUniformMatrix3dvEXT ] ---
@@ -617,7 +629,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix3dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3dvEXT(program, location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glProgramUniformMatrix4dvEXT ] ---
@@ -638,7 +652,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix4dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4dvEXT(program, location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glProgramUniformMatrix2x3dvEXT ] ---
@@ -659,7 +675,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix2x3dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x3dvEXT(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glProgramUniformMatrix2x4dvEXT ] ---
@@ -680,7 +698,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix2x4dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x4dvEXT(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glProgramUniformMatrix3x2dvEXT ] ---
@@ -701,7 +721,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix3x2dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x2dvEXT(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glProgramUniformMatrix3x4dvEXT ] ---
@@ -722,7 +744,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix3x4dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x4dvEXT(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glProgramUniformMatrix4x2dvEXT ] ---
@@ -743,7 +767,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix4x2dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x2dvEXT(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glProgramUniformMatrix4x3dvEXT ] ---
@@ -764,7 +790,9 @@ public class ARBGPUShaderFP64 {
      * @param value     a pointer to an array of {@code count} values that will be used to update the specified uniform matrix variable
      */
     public static void glProgramUniformMatrix4x3dvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x3dvEXT(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glUniform1dv Uniform1dv} */
@@ -843,7 +871,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2dvEXT ProgramUniform2dvEXT} */
@@ -852,7 +882,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3dvEXT ProgramUniform3dvEXT} */
@@ -861,7 +893,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4dvEXT ProgramUniform4dvEXT} */
@@ -870,7 +904,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2dvEXT ProgramUniformMatrix2dvEXT} */
@@ -879,7 +915,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3dvEXT ProgramUniformMatrix3dvEXT} */
@@ -888,7 +926,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4dvEXT ProgramUniformMatrix4dvEXT} */
@@ -897,7 +937,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2x3dvEXT ProgramUniformMatrix2x3dvEXT} */
@@ -906,7 +948,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2x4dvEXT ProgramUniformMatrix2x4dvEXT} */
@@ -915,7 +959,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3x2dvEXT ProgramUniformMatrix3x2dvEXT} */
@@ -924,7 +970,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3x4dvEXT ProgramUniformMatrix3x4dvEXT} */
@@ -933,7 +981,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4x2dvEXT ProgramUniformMatrix4x2dvEXT} */
@@ -942,7 +992,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4x3dvEXT ProgramUniformMatrix4x3dvEXT} */
@@ -951,7 +1003,9 @@ public class ARBGPUShaderFP64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class ARBGPUShaderInt64 {
         GL_UNSIGNED_INT64_VEC3_ARB = 0x8FF6,
         GL_UNSIGNED_INT64_VEC4_ARB = 0x8FF7;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBGPUShaderInt64.class, "glUniform1i64vARB,glProgramUniform1i64vARB,glUniform2i64vARB,glProgramUniform2i64vARB,glUniform3i64vARB,glProgramUniform3i64vARB,glUniform4i64vARB,glProgramUniform4i64vARB,glUniform1ui64vARB,glProgramUniform1ui64vARB,glUniform2ui64vARB,glProgramUniform2ui64vARB,glUniform3ui64vARB,glProgramUniform3ui64vARB,glUniform4ui64vARB,glProgramUniform4ui64vARB,glGetUniformi64vARB,glGetUniformui64vARB,glGetnUniformi64vARB,glGetnUniformui64vARB");
+
     static { GL.initialize(); }
 
     protected ARBGPUShaderInt64() {
@@ -88,7 +90,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified int64_t variable
      */
     public static void glUniform1i64vARB(@NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1i64vARB(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramUniform1i64ARB ] ---
@@ -119,7 +123,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified int64_t variable
      */
     public static void glProgramUniform1i64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1i64vARB(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniform2i64ARB ] ---
@@ -149,7 +155,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified i64vec2 variable
      */
     public static void glUniform2i64vARB(@NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2i64vARB(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glProgramUniform2i64ARB ] ---
@@ -181,7 +189,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified i64vec2 variable
      */
     public static void glProgramUniform2i64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2i64vARB(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniform3i64ARB ] ---
@@ -212,7 +222,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified i64vec3 variable
      */
     public static void glUniform3i64vARB(@NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3i64vARB(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glProgramUniform3i64ARB ] ---
@@ -245,7 +257,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified i64vec3 variable
      */
     public static void glProgramUniform3i64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3i64vARB(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glUniform4i64ARB ] ---
@@ -277,7 +291,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified i64vec4 variable
      */
     public static void glUniform4i64vARB(@NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4i64vARB(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glProgramUniform4i64ARB ] ---
@@ -311,7 +327,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified i64vec4 variable
      */
     public static void glProgramUniform4i64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4i64vARB(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glUniform1ui64ARB ] ---
@@ -340,7 +358,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified uint64_t variable
      */
     public static void glUniform1ui64vARB(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1ui64vARB(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glProgramUniform1ui64ARB ] ---
@@ -371,7 +391,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified uint64_t variable
      */
     public static void glProgramUniform1ui64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1ui64vARB(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glUniform2ui64ARB ] ---
@@ -401,7 +423,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified u64vec2 variable
      */
     public static void glUniform2ui64vARB(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2ui64vARB(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glProgramUniform2ui64ARB ] ---
@@ -433,7 +457,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified u64vec2 variable
      */
     public static void glProgramUniform2ui64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2ui64vARB(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glUniform3ui64ARB ] ---
@@ -464,7 +490,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified u64vec3 variable
      */
     public static void glUniform3ui64vARB(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3ui64vARB(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glProgramUniform3ui64ARB ] ---
@@ -497,7 +525,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified u64vec3 variable
      */
     public static void glProgramUniform3ui64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3ui64vARB(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glUniform4ui64ARB ] ---
@@ -529,7 +559,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified u64vec4 variable
      */
     public static void glUniform4ui64vARB(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4ui64vARB(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glProgramUniform4ui64ARB ] ---
@@ -563,7 +595,9 @@ public class ARBGPUShaderInt64 {
      * @param value    a pointer to an array of {@code count} values that will be used to update the specified u64vec4 variable
      */
     public static void glProgramUniform4ui64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4ui64vARB(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glGetUniformi64vARB ] ---
@@ -582,7 +616,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformi64vARB(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -596,7 +632,9 @@ public class ARBGPUShaderInt64 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformi64vARB(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 16, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -619,7 +657,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformui64vARB(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -633,7 +673,9 @@ public class ARBGPUShaderInt64 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformui64vARB(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -657,7 +699,9 @@ public class ARBGPUShaderInt64 {
      * @param params   the value of the specified uniform variable
      */
     public static void glGetnUniformi64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64 *") LongBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformi64vARB(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -671,7 +715,9 @@ public class ARBGPUShaderInt64 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformi64vARB(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -695,7 +741,9 @@ public class ARBGPUShaderInt64 {
      * @param params   the value of the specified uniform variable
      */
     public static void glGetnUniformui64vARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 *") LongBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformui64vARB(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -709,7 +757,9 @@ public class ARBGPUShaderInt64 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformui64vARB(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -722,7 +772,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1i64vARB ProgramUniform1i64vARB} */
@@ -731,7 +783,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glUniform2i64vARB Uniform2i64vARB} */
@@ -740,7 +794,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2i64vARB ProgramUniform2i64vARB} */
@@ -749,7 +805,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glUniform3i64vARB Uniform3i64vARB} */
@@ -758,7 +816,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3i64vARB ProgramUniform3i64vARB} */
@@ -767,7 +827,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glUniform4i64vARB Uniform4i64vARB} */
@@ -776,7 +838,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4i64vARB ProgramUniform4i64vARB} */
@@ -785,7 +849,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glUniform1ui64vARB Uniform1ui64vARB} */
@@ -794,7 +860,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1ui64vARB ProgramUniform1ui64vARB} */
@@ -803,7 +871,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glUniform2ui64vARB Uniform2ui64vARB} */
@@ -812,7 +882,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2ui64vARB ProgramUniform2ui64vARB} */
@@ -821,7 +893,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glUniform3ui64vARB Uniform3ui64vARB} */
@@ -830,7 +904,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3ui64vARB ProgramUniform3ui64vARB} */
@@ -839,7 +915,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glUniform4ui64vARB Uniform4ui64vARB} */
@@ -848,7 +926,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4ui64vARB ProgramUniform4ui64vARB} */
@@ -857,7 +937,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glGetUniformi64vARB GetUniformi64vARB} */
@@ -867,7 +949,9 @@ public class ARBGPUShaderInt64 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glGetUniformui64vARB GetUniformui64vARB} */
@@ -877,7 +961,9 @@ public class ARBGPUShaderInt64 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glGetnUniformi64vARB GetnUniformi64vARB} */
@@ -886,7 +972,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glGetnUniformui64vARB GetnUniformui64vARB} */
@@ -895,7 +983,9 @@ public class ARBGPUShaderInt64 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
 }
\ No newline at end of file
@@ -201,6 +201,8 @@ public class ARBImaging {
         GL_FUNC_SUBTRACT         = 0x800A,
         GL_FUNC_REVERSE_SUBTRACT = 0x800B;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBImaging.class, "glColorTable,glColorTableParameteriv,glColorTableParameterfv,glGetColorTable,glGetColorTableParameteriv,glGetColorTableParameterfv,glColorSubTable,glConvolutionFilter1D,glConvolutionFilter2D,glGetConvolutionFilter,glSeparableFilter2D,glGetSeparableFilter,glConvolutionParameteriv,glConvolutionParameterfv,glGetConvolutionParameteriv,glGetConvolutionParameterfv,glGetHistogram,glGetHistogramParameteriv,glGetHistogramParameterfv,glGetMinmax,glGetMinmaxParameteriv,glGetMinmaxParameterfv");
+
     static { GL.initialize(); }
 
     protected ARBImaging() {
@@ -237,7 +239,9 @@ public class ARBImaging {
      * @param table          the color table data
      */
     public static void glColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer table) {
+        long __start = FunctionProfiler.start();
         nglColorTable(target, internalformat, width, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -251,7 +255,9 @@ public class ARBImaging {
      * @param table          the color table data
      */
     public static void glColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long table) {
+        long __start = FunctionProfiler.start();
         nglColorTable(target, internalformat, width, format, type, table);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -265,7 +271,9 @@ public class ARBImaging {
      * @param table          the color table data
      */
     public static void glColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer table) {
+        long __start = FunctionProfiler.start();
         nglColorTable(target, internalformat, width, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -279,7 +287,9 @@ public class ARBImaging {
      * @param table          the color table data
      */
     public static void glColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer table) {
+        long __start = FunctionProfiler.start();
         nglColorTable(target, internalformat, width, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -293,7 +303,9 @@ public class ARBImaging {
      * @param table          the color table data
      */
     public static void glColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer table) {
+        long __start = FunctionProfiler.start();
         nglColorTable(target, internalformat, width, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glCopyColorTable ] ---
@@ -325,7 +337,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColorTableParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glColorTableParameterfv ] ---
@@ -344,7 +358,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColorTableParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetColorTable ] ---
@@ -361,7 +377,9 @@ public class ARBImaging {
      * @param table  the color table data
      */
     public static void glGetColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetColorTable(target, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -373,7 +391,9 @@ public class ARBImaging {
      * @param table  the color table data
      */
     public static void glGetColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long table) {
+        long __start = FunctionProfiler.start();
         nglGetColorTable(target, format, type, table);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -385,7 +405,9 @@ public class ARBImaging {
      * @param table  the color table data
      */
     public static void glGetColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetColorTable(target, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -397,7 +419,9 @@ public class ARBImaging {
      * @param table  the color table data
      */
     public static void glGetColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetColorTable(target, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -409,7 +433,9 @@ public class ARBImaging {
      * @param table  the color table data
      */
     public static void glGetColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetColorTable(target, format, type, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetColorTableParameteriv ] ---
@@ -428,7 +454,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetColorTableParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -442,7 +470,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetColorTableParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -465,7 +495,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetColorTableParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -479,7 +511,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetColorTableParameterfv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -502,7 +536,9 @@ public class ARBImaging {
      * @param data   the color table data
      */
     public static void glColorSubTable(@NativeType("GLenum") int target, @NativeType("GLsizei") int start, @NativeType("GLsizei") int count, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglColorSubTable(target, start, count, format, type, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -516,7 +552,9 @@ public class ARBImaging {
      * @param data   the color table data
      */
     public static void glColorSubTable(@NativeType("GLenum") int target, @NativeType("GLsizei") int start, @NativeType("GLsizei") int count, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglColorSubTable(target, start, count, format, type, data);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glCopyColorSubTable ] ---
@@ -548,7 +586,9 @@ public class ARBImaging {
      * @param data           the filter data
      */
     public static void glConvolutionFilter1D(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglConvolutionFilter1D(target, internalformat, width, format, type, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -562,7 +602,9 @@ public class ARBImaging {
      * @param data           the filter data
      */
     public static void glConvolutionFilter1D(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglConvolutionFilter1D(target, internalformat, width, format, type, data);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glConvolutionFilter2D ] ---
@@ -582,7 +624,9 @@ public class ARBImaging {
      * @param data           the filter data
      */
     public static void glConvolutionFilter2D(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglConvolutionFilter2D(target, internalformat, width, height, format, type, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -597,7 +641,9 @@ public class ARBImaging {
      * @param data           the filter data
      */
     public static void glConvolutionFilter2D(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglConvolutionFilter2D(target, internalformat, width, height, format, type, data);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glCopyConvolutionFilter1D ] ---
@@ -643,7 +689,9 @@ public class ARBImaging {
      * @param image  the filter data
      */
     public static void glGetConvolutionFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer image) {
+        long __start = FunctionProfiler.start();
         nglGetConvolutionFilter(target, format, type, memAddress(image));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -655,7 +703,9 @@ public class ARBImaging {
      * @param image  the filter data
      */
     public static void glGetConvolutionFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long image) {
+        long __start = FunctionProfiler.start();
         nglGetConvolutionFilter(target, format, type, image);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glSeparableFilter2D ] ---
@@ -676,7 +726,9 @@ public class ARBImaging {
      * @param column         the vertical filter data
      */
     public static void glSeparableFilter2D(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer row, @NativeType("void const *") ByteBuffer column) {
+        long __start = FunctionProfiler.start();
         nglSeparableFilter2D(target, internalformat, width, height, format, type, memAddress(row), memAddress(column));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -692,7 +744,9 @@ public class ARBImaging {
      * @param column         the vertical filter data
      */
     public static void glSeparableFilter2D(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long row, @NativeType("void const *") long column) {
+        long __start = FunctionProfiler.start();
         nglSeparableFilter2D(target, internalformat, width, height, format, type, row, column);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glGetSeparableFilter ] ---
@@ -711,7 +765,9 @@ public class ARBImaging {
      * @param span   unused
      */
     public static void glGetSeparableFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer row, @NativeType("void *") ByteBuffer column, @Nullable @NativeType("void *") ByteBuffer span) {
+        long __start = FunctionProfiler.start();
         nglGetSeparableFilter(target, format, type, memAddress(row), memAddress(column), memAddressSafe(span));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -725,7 +781,9 @@ public class ARBImaging {
      * @param span   unused
      */
     public static void glGetSeparableFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long row, @NativeType("void *") long column, @Nullable @NativeType("void *") ByteBuffer span) {
+        long __start = FunctionProfiler.start();
         nglGetSeparableFilter(target, format, type, row, column, memAddressSafe(span));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glConvolutionParameteri ] ---
@@ -755,7 +813,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglConvolutionParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glConvolutionParameterf ] ---
@@ -785,7 +845,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglConvolutionParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glGetConvolutionParameteriv ] ---
@@ -804,7 +866,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetConvolutionParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -818,7 +882,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetConvolutionParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -841,7 +907,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetConvolutionParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -855,7 +923,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetConvolutionParameterfv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -898,7 +968,9 @@ public class ARBImaging {
      * @param values the pixel data
      */
     public static void glGetHistogram(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer values) {
+        long __start = FunctionProfiler.start();
         nglGetHistogram(target, reset, format, type, memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -911,7 +983,9 @@ public class ARBImaging {
      * @param values the pixel data
      */
     public static void glGetHistogram(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long values) {
+        long __start = FunctionProfiler.start();
         nglGetHistogram(target, reset, format, type, values);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glGetHistogramParameteriv ] ---
@@ -930,7 +1004,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetHistogramParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -944,7 +1020,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetHistogramParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -967,7 +1045,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetHistogramParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -981,7 +1061,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetHistogramParameterfv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1024,7 +1106,9 @@ public class ARBImaging {
      * @param values a buffer in which to place the minmax values
      */
     public static void glGetMinmax(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer values) {
+        long __start = FunctionProfiler.start();
         nglGetMinmax(target, reset, format, type, memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1038,7 +1122,9 @@ public class ARBImaging {
      * @param values a buffer in which to place the minmax values
      */
     public static void glGetMinmax(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long values) {
+        long __start = FunctionProfiler.start();
         nglGetMinmax(target, reset, format, type, values);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glGetMinmaxParameteriv ] ---
@@ -1057,7 +1143,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMinmaxParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1071,7 +1159,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMinmaxParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1094,7 +1184,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMinmaxParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1108,7 +1200,9 @@ public class ARBImaging {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMinmaxParameterfv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1146,7 +1240,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, width, format, type, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glColorTable ColorTable} */
@@ -1155,7 +1251,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, width, format, type, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glColorTable ColorTable} */
@@ -1164,7 +1262,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, width, format, type, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glColorTableParameteriv ColorTableParameteriv} */
@@ -1174,7 +1274,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glColorTableParameterfv ColorTableParameterfv} */
@@ -1184,7 +1286,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetColorTable GetColorTable} */
@@ -1193,7 +1297,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetColorTable GetColorTable} */
@@ -1202,7 +1308,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetColorTable GetColorTable} */
@@ -1211,7 +1319,9 @@ public class ARBImaging {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetColorTableParameteriv GetColorTableParameteriv} */
@@ -1221,7 +1331,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetColorTableParameterfv GetColorTableParameterfv} */
@@ -1231,7 +1343,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glConvolutionParameteriv ConvolutionParameteriv} */
@@ -1241,7 +1355,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glConvolutionParameterfv ConvolutionParameterfv} */
@@ -1251,7 +1367,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glGetConvolutionParameteriv GetConvolutionParameteriv} */
@@ -1261,7 +1379,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glGetConvolutionParameterfv GetConvolutionParameterfv} */
@@ -1271,7 +1391,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glGetHistogramParameteriv GetHistogramParameteriv} */
@@ -1281,7 +1403,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glGetHistogramParameterfv GetHistogramParameterfv} */
@@ -1291,7 +1415,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glGetMinmaxParameteriv GetMinmaxParameteriv} */
@@ -1301,7 +1427,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #glGetMinmaxParameterfv GetMinmaxParameterfv} */
@@ -1311,7 +1439,9 @@ public class ARBImaging {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
 }
\ No newline at end of file
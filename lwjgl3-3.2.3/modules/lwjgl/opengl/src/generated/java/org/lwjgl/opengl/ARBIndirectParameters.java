@@ -40,6 +40,8 @@ public class ARBIndirectParameters {
     /** Accepted by the {@code value} parameter of GetIntegerv, GetBooleanv, GetFloatv, and GetDoublev. */
     public static final int GL_PARAMETER_BUFFER_BINDING_ARB = 0x80EF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBIndirectParameters.class, "glMultiDrawArraysIndirectCountARB,glMultiDrawElementsIndirectCountARB");
+
     static { GL.initialize(); }
 
     protected ARBIndirectParameters() {
@@ -73,7 +75,9 @@ public class ARBIndirectParameters {
         if (CHECKS) {
             check(indirect, maxdrawcount * (stride == 0 ? (4 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectCountARB(mode, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -89,7 +93,9 @@ public class ARBIndirectParameters {
      * @param stride       the distance in basic machine units between elements of the draw parameter array
      */
     public static void glMultiDrawArraysIndirectCountARB(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect, @NativeType("GLintptr") long drawcount, @NativeType("GLsizei") int maxdrawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectCountARB(mode, indirect, drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -108,7 +114,9 @@ public class ARBIndirectParameters {
         if (CHECKS) {
             check(indirect, (maxdrawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectCountARB(mode, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElementsIndirectCountARB ] ---
@@ -133,7 +141,9 @@ public class ARBIndirectParameters {
         if (CHECKS) {
             check(indirect, maxdrawcount * (stride == 0 ? (5 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectCountARB(mode, type, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -150,7 +160,9 @@ public class ARBIndirectParameters {
      * @param stride       the distance in basic machine units between elements of the draw parameter array
      */
     public static void glMultiDrawElementsIndirectCountARB(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect, @NativeType("GLintptr") long drawcount, @NativeType("GLsizei") int maxdrawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectCountARB(mode, type, indirect, drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -170,7 +182,9 @@ public class ARBIndirectParameters {
         if (CHECKS) {
             check(indirect, (maxdrawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectCountARB(mode, type, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMultiDrawArraysIndirectCountARB MultiDrawArraysIndirectCountARB} */
@@ -180,7 +194,9 @@ public class ARBIndirectParameters {
             check(__functionAddress);
             check(indirect, (maxdrawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, indirect, drawcount, maxdrawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMultiDrawElementsIndirectCountARB MultiDrawElementsIndirectCountARB} */
@@ -190,7 +206,9 @@ public class ARBIndirectParameters {
             check(__functionAddress);
             check(indirect, (maxdrawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, type, indirect, drawcount, maxdrawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
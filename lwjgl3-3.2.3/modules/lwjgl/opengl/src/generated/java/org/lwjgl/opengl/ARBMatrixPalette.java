@@ -54,6 +54,8 @@ public class ARBMatrixPalette {
     /** Accepted by the {@code pname} parameter of GetPointerv. */
     public static final int GL_MATRIX_INDEX_ARRAY_POINTER_ARB = 0x8849;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBMatrixPalette.class, "glMatrixIndexuivARB,glMatrixIndexubvARB,glMatrixIndexusvARB,glMatrixIndexPointerARB");
+
     static { GL.initialize(); }
 
     protected ARBMatrixPalette() {
@@ -90,7 +92,9 @@ public class ARBMatrixPalette {
      * @param indices the matrix index values
      */
     public static void glMatrixIndexuivARB(@NativeType("GLuint *") IntBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexuivARB(indices.remaining(), memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMatrixIndexubvARB ] ---
@@ -108,7 +112,9 @@ public class ARBMatrixPalette {
      * @param indices the matrix index values
      */
     public static void glMatrixIndexubvARB(@NativeType("GLubyte *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexubvARB(indices.remaining(), memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glMatrixIndexusvARB ] ---
@@ -126,7 +132,9 @@ public class ARBMatrixPalette {
      * @param indices the matrix index values
      */
     public static void glMatrixIndexusvARB(@NativeType("GLushort *") ShortBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexusvARB(indices.remaining(), memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMatrixIndexPointerARB ] ---
@@ -145,7 +153,9 @@ public class ARBMatrixPalette {
      * @param pointer the matrix index data
      */
     public static void glMatrixIndexPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexPointerARB(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -155,7 +165,9 @@ public class ARBMatrixPalette {
      * @param pointer the matrix index data
      */
     public static void glMatrixIndexPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexPointerARB(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -164,7 +176,9 @@ public class ARBMatrixPalette {
      * @param pointer the matrix index data
      */
     public static void glMatrixIndexPointerARB(@NativeType("GLint") int size, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexPointerARB(size, GL11.GL_UNSIGNED_BYTE, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -173,7 +187,9 @@ public class ARBMatrixPalette {
      * @param pointer the matrix index data
      */
     public static void glMatrixIndexPointerARB(@NativeType("GLint") int size, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexPointerARB(size, GL11.GL_UNSIGNED_SHORT, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -182,7 +198,9 @@ public class ARBMatrixPalette {
      * @param pointer the matrix index data
      */
     public static void glMatrixIndexPointerARB(@NativeType("GLint") int size, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMatrixIndexPointerARB(size, GL11.GL_UNSIGNED_INT, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glMatrixIndexuivARB MatrixIndexuivARB} */
@@ -191,7 +209,9 @@ public class ARBMatrixPalette {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(indices.length, indices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMatrixIndexusvARB MatrixIndexusvARB} */
@@ -200,7 +220,9 @@ public class ARBMatrixPalette {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(indices.length, indices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -63,6 +63,8 @@ public class ARBMultitexture {
         GL_CLIENT_ACTIVE_TEXTURE_ARB = 0x84E1,
         GL_MAX_TEXTURE_UNITS_ARB     = 0x84E2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBMultitexture.class, "glMultiTexCoord1fvARB,glMultiTexCoord1svARB,glMultiTexCoord1ivARB,glMultiTexCoord1dvARB,glMultiTexCoord2fvARB,glMultiTexCoord2svARB,glMultiTexCoord2ivARB,glMultiTexCoord2dvARB,glMultiTexCoord3fvARB,glMultiTexCoord3svARB,glMultiTexCoord3ivARB,glMultiTexCoord3dvARB,glMultiTexCoord4fvARB,glMultiTexCoord4svARB,glMultiTexCoord4ivARB,glMultiTexCoord4dvARB");
+
     static { GL.initialize(); }
 
     protected ARBMultitexture() {
@@ -156,7 +158,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1fvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiTexCoord1svARB ] ---
@@ -174,7 +178,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1svARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glMultiTexCoord1ivARB ] ---
@@ -192,7 +198,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1ivARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMultiTexCoord1dvARB ] ---
@@ -210,7 +218,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1dvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glMultiTexCoord2fARB ] ---
@@ -272,7 +282,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2fvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glMultiTexCoord2svARB ] ---
@@ -290,7 +302,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2svARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glMultiTexCoord2ivARB ] ---
@@ -308,7 +322,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2ivARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glMultiTexCoord2dvARB ] ---
@@ -326,7 +342,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2dvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glMultiTexCoord3fARB ] ---
@@ -392,7 +410,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3fvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glMultiTexCoord3svARB ] ---
@@ -410,7 +430,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3svARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glMultiTexCoord3ivARB ] ---
@@ -428,7 +450,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3ivARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glMultiTexCoord3dvARB ] ---
@@ -446,7 +470,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3dvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glMultiTexCoord4fARB ] ---
@@ -516,7 +542,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4fvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glMultiTexCoord4svARB ] ---
@@ -534,7 +562,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4svARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glMultiTexCoord4ivARB ] ---
@@ -552,7 +582,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4ivARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glMultiTexCoord4dvARB ] ---
@@ -570,7 +602,9 @@ public class ARBMultitexture {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4dvARB(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord1fvARB MultiTexCoord1fvARB} */
@@ -580,7 +614,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord1svARB MultiTexCoord1svARB} */
@@ -590,7 +626,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord1ivARB MultiTexCoord1ivARB} */
@@ -600,7 +638,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord1dvARB MultiTexCoord1dvARB} */
@@ -610,7 +650,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord2fvARB MultiTexCoord2fvARB} */
@@ -620,7 +662,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord2svARB MultiTexCoord2svARB} */
@@ -630,7 +674,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord2ivARB MultiTexCoord2ivARB} */
@@ -640,7 +686,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord2dvARB MultiTexCoord2dvARB} */
@@ -650,7 +698,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord3fvARB MultiTexCoord3fvARB} */
@@ -660,7 +710,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord3svARB MultiTexCoord3svARB} */
@@ -670,7 +722,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord3ivARB MultiTexCoord3ivARB} */
@@ -680,7 +734,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord3dvARB MultiTexCoord3dvARB} */
@@ -690,7 +746,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord4fvARB MultiTexCoord4fvARB} */
@@ -700,7 +758,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord4svARB MultiTexCoord4svARB} */
@@ -710,7 +770,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord4ivARB MultiTexCoord4ivARB} */
@@ -720,7 +782,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord4dvARB MultiTexCoord4dvARB} */
@@ -730,7 +794,9 @@ public class ARBMultitexture {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
 }
\ No newline at end of file
@@ -71,6 +71,8 @@ public class ARBOcclusionQuery {
         GL_QUERY_RESULT_ARB           = 0x8866,
         GL_QUERY_RESULT_AVAILABLE_ARB = 0x8867;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBOcclusionQuery.class, "glGenQueriesARB,glDeleteQueriesARB,glGetQueryivARB,glGetQueryObjectivARB,glGetQueryObjectuivARB");
+
     static { GL.initialize(); }
 
     protected ARBOcclusionQuery() {
@@ -99,7 +101,9 @@ public class ARBOcclusionQuery {
      * @param ids a buffer in which the generated query object names are stored
      */
     public static void glGenQueriesARB(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglGenQueriesARB(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Generates query object names. */
@@ -108,7 +112,9 @@ public class ARBOcclusionQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenQueriesARB(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -130,7 +136,9 @@ public class ARBOcclusionQuery {
      * @param ids an array of query objects to be deleted
      */
     public static void glDeleteQueriesARB(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteQueriesARB(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Deletes named query objects. */
@@ -138,7 +146,9 @@ public class ARBOcclusionQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteQueriesARB(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -189,7 +199,9 @@ public class ARBOcclusionQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryivARB(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -203,7 +215,9 @@ public class ARBOcclusionQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryivARB(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -226,7 +240,9 @@ public class ARBOcclusionQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectivARB(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -240,7 +256,9 @@ public class ARBOcclusionQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectivARB(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -263,7 +281,9 @@ public class ARBOcclusionQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectuivARB(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -277,7 +297,9 @@ public class ARBOcclusionQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectuivARB(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -290,7 +312,9 @@ public class ARBOcclusionQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glDeleteQueriesARB DeleteQueriesARB} */
@@ -299,7 +323,9 @@ public class ARBOcclusionQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetQueryivARB GetQueryivARB} */
@@ -309,7 +335,9 @@ public class ARBOcclusionQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetQueryObjectivARB GetQueryObjectivARB} */
@@ -319,7 +347,9 @@ public class ARBOcclusionQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetQueryObjectuivARB GetQueryObjectuivARB} */
@@ -329,7 +359,9 @@ public class ARBOcclusionQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ public class ARBPointParameters {
         GL_POINT_FADE_THRESHOLD_SIZE_ARB  = 0x8128,
         GL_POINT_DISTANCE_ATTENUATION_ARB = 0x8129;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBPointParameters.class, "glPointParameterfvARB");
+
     static { GL.initialize(); }
 
     protected ARBPointParameters() {
@@ -78,7 +80,9 @@ public class ARBPointParameters {
         if (CHECKS) {
             check(params, 3);
         }
+        long __start = FunctionProfiler.start();
         nglPointParameterfvARB(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPointParameterfvARB PointParameterfvARB} */
@@ -88,7 +92,9 @@ public class ARBPointParameters {
             check(__functionAddress);
             check(params, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
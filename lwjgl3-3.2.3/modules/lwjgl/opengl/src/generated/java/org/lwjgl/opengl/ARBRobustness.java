@@ -92,6 +92,8 @@ public class ARBRobustness {
     /** Returned by GetIntegerv when {@code pname} is CONTEXT_FLAGS. */
     public static final int GL_CONTEXT_FLAG_ROBUST_ACCESS_BIT_ARB = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBRobustness.class, "glGetnMapdvARB,glGetnMapfvARB,glGetnMapivARB,glGetnPixelMapfvARB,glGetnPixelMapuivARB,glGetnPixelMapusvARB,glGetnPolygonStippleARB,glGetnTexImageARB,glReadnPixelsARB,glGetnColorTableARB,glGetnConvolutionFilterARB,glGetnSeparableFilterARB,glGetnHistogramARB,glGetnMinmaxARB,glGetnCompressedTexImageARB,glGetnUniformfvARB,glGetnUniformivARB,glGetnUniformuivARB,glGetnUniformdvARB");
+
     static { GL.initialize(); }
 
     protected ARBRobustness() {
@@ -157,7 +159,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glGetnMapdvARB(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLdouble *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnMapdvARB(target, query, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -171,7 +175,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer data = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetnMapdvARB(target, query, 1, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -195,7 +201,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glGetnMapfvARB(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLfloat *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnMapfvARB(target, query, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -209,7 +217,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnMapfvARB(target, query, 1, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -233,7 +243,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glGetnMapivARB(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLint *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnMapivARB(target, query, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -247,7 +259,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnMapivARB(target, query, 1, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -270,7 +284,9 @@ public class ARBRobustness {
      * @param data a buffer in which to place the returned data
      */
     public static void glGetnPixelMapfvARB(@NativeType("GLenum") int map, @NativeType("GLfloat *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnPixelMapfvARB(map, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetnPixelMapuivARB ] ---
@@ -289,7 +305,9 @@ public class ARBRobustness {
      * @param data a buffer in which to place the returned data
      */
     public static void glGetnPixelMapuivARB(@NativeType("GLenum") int map, @NativeType("GLuint *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnPixelMapuivARB(map, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetnPixelMapusvARB ] ---
@@ -308,7 +326,9 @@ public class ARBRobustness {
      * @param data a buffer in which to place the returned data
      */
     public static void glGetnPixelMapusvARB(@NativeType("GLenum") int map, @NativeType("GLushort *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnPixelMapusvARB(map, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glGetnPolygonStippleARB ] ---
@@ -327,7 +347,9 @@ public class ARBRobustness {
      * @param pattern a buffer in which to place the returned pattern
      */
     public static void glGetnPolygonStippleARB(@NativeType("GLsizei") int bufSize, @NativeType("GLubyte *") long pattern) {
+        long __start = FunctionProfiler.start();
         nglGetnPolygonStippleARB(bufSize, pattern);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -336,7 +358,9 @@ public class ARBRobustness {
      * @param pattern a buffer in which to place the returned pattern
      */
     public static void glGetnPolygonStippleARB(@NativeType("GLubyte *") ByteBuffer pattern) {
+        long __start = FunctionProfiler.start();
         nglGetnPolygonStippleARB(pattern.remaining(), memAddress(pattern));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glGetnTexImageARB ] ---
@@ -359,7 +383,9 @@ public class ARBRobustness {
      * @param img     a buffer in which to place the returned data
      */
     public static void glGetnTexImageARB(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImageARB(tex, level, format, type, bufSize, img);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -372,7 +398,9 @@ public class ARBRobustness {
      * @param img    a buffer in which to place the returned data
      */
     public static void glGetnTexImageARB(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImageARB(tex, level, format, type, img.remaining(), memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -385,7 +413,9 @@ public class ARBRobustness {
      * @param img    a buffer in which to place the returned data
      */
     public static void glGetnTexImageARB(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImageARB(tex, level, format, type, img.remaining() << 1, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -398,7 +428,9 @@ public class ARBRobustness {
      * @param img    a buffer in which to place the returned data
      */
     public static void glGetnTexImageARB(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImageARB(tex, level, format, type, img.remaining() << 2, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -411,7 +443,9 @@ public class ARBRobustness {
      * @param img    a buffer in which to place the returned data
      */
     public static void glGetnTexImageARB(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImageARB(tex, level, format, type, img.remaining() << 2, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -424,7 +458,9 @@ public class ARBRobustness {
      * @param img    a buffer in which to place the returned data
      */
     public static void glGetnTexImageARB(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImageARB(tex, level, format, type, img.remaining() << 3, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glReadnPixelsARB ] ---
@@ -449,7 +485,9 @@ public class ARBRobustness {
      * @param data    a buffer in which to place the returned data
      */
     public static void glReadnPixelsARB(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsARB(x, y, width, height, format, type, bufSize, data);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -464,7 +502,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glReadnPixelsARB(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsARB(x, y, width, height, format, type, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -479,7 +519,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glReadnPixelsARB(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsARB(x, y, width, height, format, type, data.remaining() << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -494,7 +536,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glReadnPixelsARB(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsARB(x, y, width, height, format, type, data.remaining() << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -509,7 +553,9 @@ public class ARBRobustness {
      * @param data   a buffer in which to place the returned data
      */
     public static void glReadnPixelsARB(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsARB(x, y, width, height, format, type, data.remaining() << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glGetnColorTableARB ] ---
@@ -531,7 +577,9 @@ public class ARBRobustness {
      * @param table   a buffer in which to place the returned data
      */
     public static void glGetnColorTableARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTableARB(target, format, type, bufSize, table);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -543,7 +591,9 @@ public class ARBRobustness {
      * @param table  a buffer in which to place the returned data
      */
     public static void glGetnColorTableARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTableARB(target, format, type, table.remaining(), memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -555,7 +605,9 @@ public class ARBRobustness {
      * @param table  a buffer in which to place the returned data
      */
     public static void glGetnColorTableARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTableARB(target, format, type, table.remaining() << 1, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -567,7 +619,9 @@ public class ARBRobustness {
      * @param table  a buffer in which to place the returned data
      */
     public static void glGetnColorTableARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTableARB(target, format, type, table.remaining() << 2, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -579,7 +633,9 @@ public class ARBRobustness {
      * @param table  a buffer in which to place the returned data
      */
     public static void glGetnColorTableARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTableARB(target, format, type, table.remaining() << 2, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glGetnConvolutionFilterARB ] ---
@@ -601,7 +657,9 @@ public class ARBRobustness {
      * @param image   a buffer in which to place the returned data
      */
     public static void glGetnConvolutionFilterARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long image) {
+        long __start = FunctionProfiler.start();
         nglGetnConvolutionFilterARB(target, format, type, bufSize, image);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -613,7 +671,9 @@ public class ARBRobustness {
      * @param image  a buffer in which to place the returned data
      */
     public static void glGetnConvolutionFilterARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer image) {
+        long __start = FunctionProfiler.start();
         nglGetnConvolutionFilterARB(target, format, type, image.remaining(), memAddress(image));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glGetnSeparableFilterARB ] ---
@@ -638,7 +698,9 @@ public class ARBRobustness {
      * @param column        a buffer in which to return the filter column
      */
     public static void glGetnSeparableFilterARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int rowBufSize, @NativeType("void *") long row, @NativeType("GLsizei") int columnBufSize, @NativeType("void *") long column, @Nullable @NativeType("void *") ByteBuffer span) {
+        long __start = FunctionProfiler.start();
         nglGetnSeparableFilterARB(target, format, type, rowBufSize, row, columnBufSize, column, memAddressSafe(span));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -651,7 +713,9 @@ public class ARBRobustness {
      * @param column a buffer in which to return the filter column
      */
     public static void glGetnSeparableFilterARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer row, @NativeType("void *") ByteBuffer column, @Nullable @NativeType("void *") ByteBuffer span) {
+        long __start = FunctionProfiler.start();
         nglGetnSeparableFilterARB(target, format, type, row.remaining(), memAddress(row), column.remaining(), memAddress(column), memAddressSafe(span));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glGetnHistogramARB ] ---
@@ -674,7 +738,9 @@ public class ARBRobustness {
      * @param values  a buffer in which to place the returned data
      */
     public static void glGetnHistogramARB(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long values) {
+        long __start = FunctionProfiler.start();
         nglGetnHistogramARB(target, reset, format, type, bufSize, values);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -687,7 +753,9 @@ public class ARBRobustness {
      * @param values a buffer in which to place the returned data
      */
     public static void glGetnHistogramARB(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer values) {
+        long __start = FunctionProfiler.start();
         nglGetnHistogramARB(target, reset, format, type, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glGetnMinmaxARB ] ---
@@ -711,7 +779,9 @@ public class ARBRobustness {
      * @param values  a buffer in which to place the returned data
      */
     public static void glGetnMinmaxARB(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long values) {
+        long __start = FunctionProfiler.start();
         nglGetnMinmaxARB(target, reset, format, type, bufSize, values);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -725,7 +795,9 @@ public class ARBRobustness {
      * @param values a buffer in which to place the returned data
      */
     public static void glGetnMinmaxARB(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer values) {
+        long __start = FunctionProfiler.start();
         nglGetnMinmaxARB(target, reset, format, type, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glGetnCompressedTexImageARB ] ---
@@ -746,7 +818,9 @@ public class ARBRobustness {
      * @param img     a buffer in which to place the returned data
      */
     public static void glGetnCompressedTexImageARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLsizei") int bufSize, @NativeType("void *") long img) {
+        long __start = FunctionProfiler.start();
         nglGetnCompressedTexImageARB(target, level, bufSize, img);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -762,7 +836,9 @@ public class ARBRobustness {
                 check(img, GL11.glGetTexLevelParameteri(target, level, GL13.GL_TEXTURE_COMPRESSED_IMAGE_SIZE));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetnCompressedTexImageARB(target, level, img.remaining(), memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glGetnUniformfvARB ] ---
@@ -782,7 +858,9 @@ public class ARBRobustness {
      * @param params   a buffer in which to place the returned data
      */
     public static void glGetnUniformfvARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformfvARB(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -796,7 +874,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformfvARB(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -820,7 +900,9 @@ public class ARBRobustness {
      * @param params   a buffer in which to place the returned data
      */
     public static void glGetnUniformivARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformivARB(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -834,7 +916,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformivARB(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 16, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -858,7 +942,9 @@ public class ARBRobustness {
      * @param params   a buffer in which to place the returned data
      */
     public static void glGetnUniformuivARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformuivARB(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -872,7 +958,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformuivARB(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -896,7 +984,9 @@ public class ARBRobustness {
      * @param params   a buffer in which to place the returned data
      */
     public static void glGetnUniformdvARB(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble *") DoubleBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformdvARB(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -910,7 +1000,9 @@ public class ARBRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformdvARB(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -923,7 +1015,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetnMapfvARB GetnMapfvARB} */
@@ -932,7 +1026,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetnMapivARB GetnMapivARB} */
@@ -941,7 +1037,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetnPixelMapfvARB GetnPixelMapfvARB} */
@@ -950,7 +1048,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetnPixelMapuivARB GetnPixelMapuivARB} */
@@ -959,7 +1059,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetnPixelMapusvARB GetnPixelMapusvARB} */
@@ -968,7 +1070,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetnTexImageARB GetnTexImageARB} */
@@ -977,7 +1081,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 1, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetnTexImageARB GetnTexImageARB} */
@@ -986,7 +1092,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 2, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetnTexImageARB GetnTexImageARB} */
@@ -995,7 +1103,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 2, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetnTexImageARB GetnTexImageARB} */
@@ -1004,7 +1114,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 3, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsARB ReadnPixelsARB} */
@@ -1013,7 +1125,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, data.length << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsARB ReadnPixelsARB} */
@@ -1022,7 +1136,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, data.length << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsARB ReadnPixelsARB} */
@@ -1031,7 +1147,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, data.length << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glGetnColorTableARB GetnColorTableARB} */
@@ -1040,7 +1158,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table.length << 1, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glGetnColorTableARB GetnColorTableARB} */
@@ -1049,7 +1169,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table.length << 2, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glGetnColorTableARB GetnColorTableARB} */
@@ -1058,7 +1180,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table.length << 2, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glGetnUniformfvARB GetnUniformfvARB} */
@@ -1067,7 +1191,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glGetnUniformivARB GetnUniformivARB} */
@@ -1076,7 +1202,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glGetnUniformuivARB GetnUniformuivARB} */
@@ -1085,7 +1213,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glGetnUniformdvARB GetnUniformdvARB} */
@@ -1094,7 +1224,9 @@ public class ARBRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
 }
\ No newline at end of file
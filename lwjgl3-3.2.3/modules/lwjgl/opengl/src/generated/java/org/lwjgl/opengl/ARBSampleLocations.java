@@ -51,6 +51,8 @@ public class ARBSampleLocations {
         GL_FRAMEBUFFER_PROGRAMMABLE_SAMPLE_LOCATIONS_ARB = 0x9342,
         GL_FRAMEBUFFER_SAMPLE_LOCATION_PIXEL_GRID_ARB    = 0x9343;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBSampleLocations.class, "glFramebufferSampleLocationsfvARB,glNamedFramebufferSampleLocationsfvARB");
+
     static { GL.initialize(); }
 
     protected ARBSampleLocations() {
@@ -85,7 +87,9 @@ public class ARBSampleLocations {
      * @param v      a pair of values for each sample location to update
      */
     public static void glFramebufferSampleLocationsfvARB(@NativeType("GLenum") int target, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglFramebufferSampleLocationsfvARB(target, start, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glNamedFramebufferSampleLocationsfvARB ] ---
@@ -105,7 +109,9 @@ public class ARBSampleLocations {
      * @param v           a pair of values for each sample location to update
      */
     public static void glNamedFramebufferSampleLocationsfvARB(@NativeType("GLuint") int framebuffer, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglNamedFramebufferSampleLocationsfvARB(framebuffer, start, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glEvaluateDepthValuesARB ] ---
@@ -123,7 +129,9 @@ public class ARBSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, start, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedFramebufferSampleLocationsfvARB NamedFramebufferSampleLocationsfvARB} */
@@ -132,7 +140,9 @@ public class ARBSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, start, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
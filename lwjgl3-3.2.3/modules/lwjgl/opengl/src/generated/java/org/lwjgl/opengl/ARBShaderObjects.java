@@ -86,6 +86,8 @@ public class ARBShaderObjects {
         GL_SAMPLER_2D_RECT_ARB        = 0x8B63,
         GL_SAMPLER_2D_RECT_SHADOW_ARB = 0x8B64;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBShaderObjects.class, "glShaderSourceARB,glUniform1fvARB,glUniform2fvARB,glUniform3fvARB,glUniform4fvARB,glUniform1ivARB,glUniform2ivARB,glUniform3ivARB,glUniform4ivARB,glUniformMatrix2fvARB,glUniformMatrix3fvARB,glUniformMatrix4fvARB,glGetObjectParameterfvARB,glGetObjectParameterivARB,glGetInfoLogARB,glGetAttachedObjectsARB,glGetUniformLocationARB,glGetActiveUniformARB,glGetUniformfvARB,glGetUniformivARB,glGetShaderSourceARB");
+
     static { GL.initialize(); }
 
     protected ARBShaderObjects() {
@@ -179,7 +181,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             checkSafe(length, string.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglShaderSourceARB(shaderObj, string.remaining(), memAddress(string), memAddressSafe(length));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -196,7 +200,9 @@ public class ARBShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+            long __start = FunctionProfiler.start();
             nglShaderSourceARB(shaderObj, string.length, stringAddress, stringAddress - (string.length << 2));
+            FunctionProfiler.end(PROFILE_ID, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, string.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -217,7 +223,9 @@ public class ARBShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+            long __start = FunctionProfiler.start();
             nglShaderSourceARB(shaderObj, 1, stringAddress, stringAddress - 4);
+            FunctionProfiler.end(PROFILE_ID, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, 1);
         } finally {
             stack.setPointer(stackPointer);
@@ -433,7 +441,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform1fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1fvARB(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniform2fvARB ] ---
@@ -452,7 +462,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform2fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2fvARB(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glUniform3fvARB ] ---
@@ -471,7 +483,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform3fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3fvARB(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniform4fvARB ] ---
@@ -490,7 +504,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform4fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4fvARB(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glUniform1ivARB ] ---
@@ -509,7 +525,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform1ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1ivARB(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glUniform2ivARB ] ---
@@ -528,7 +546,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform2ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2ivARB(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glUniform3ivARB ] ---
@@ -547,7 +567,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform3ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3ivARB(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glUniform4ivARB ] ---
@@ -566,7 +588,9 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform4ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4ivARB(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glUniformMatrix2fvARB ] ---
@@ -586,7 +610,9 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix2fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2fvARB(location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glUniformMatrix3fvARB ] ---
@@ -606,7 +632,9 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix3fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3fvARB(location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glUniformMatrix4fvARB ] ---
@@ -626,7 +654,9 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix4fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4fvARB(location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glGetObjectParameterfvARB ] ---
@@ -645,7 +675,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectParameterfvARB(obj, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glGetObjectParameterivARB ] ---
@@ -664,7 +696,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectParameterivARB(obj, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -678,7 +712,9 @@ public class ARBShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetObjectParameterivARB(obj, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -717,7 +753,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetInfoLogARB(obj, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -743,7 +781,9 @@ public class ARBShaderObjects {
         ByteBuffer infoLog = memAlloc(maxLength);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetInfoLogARB(obj, maxLength, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -794,7 +834,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             checkSafe(count, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetAttachedObjectsARB(containerObj, obj.remaining(), memAddressSafe(count), memAddress(obj));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glGetUniformLocationARB ] ---
@@ -823,7 +865,8 @@ public class ARBShaderObjects {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetUniformLocationARB(programObj, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nglGetUniformLocationARB(programObj, memAddress(name)));
     }
 
     /**
@@ -848,7 +891,8 @@ public class ARBShaderObjects {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetUniformLocationARB(programObj, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 16, __start, nglGetUniformLocationARB(programObj, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -901,7 +945,9 @@ public class ARBShaderObjects {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformARB(programObj, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -944,7 +990,9 @@ public class ARBShaderObjects {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(maxLength);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformARB(programObj, index, maxLength, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
             return memUTF8(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1001,7 +1049,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformfvARB(programObj, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1015,7 +1065,9 @@ public class ARBShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformfvARB(programObj, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1038,7 +1090,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformivARB(programObj, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1052,7 +1106,9 @@ public class ARBShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformivARB(programObj, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1084,7 +1140,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderSourceARB(obj, source.remaining(), memAddressSafe(length), memAddress(source));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1103,7 +1161,9 @@ public class ARBShaderObjects {
         ByteBuffer source = memAlloc(maxLength);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetShaderSourceARB(obj, maxLength, memAddress(length), memAddress(source));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return memUTF8(source, length.get(0));
         } finally {
             memFree(source);
@@ -1132,7 +1192,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             checkSafe(length, string.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(shaderObj, string.remaining(), memAddress(string), length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glUniform1fvARB Uniform1fvARB} */
@@ -1141,7 +1203,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glUniform2fvARB Uniform2fvARB} */
@@ -1150,7 +1214,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glUniform3fvARB Uniform3fvARB} */
@@ -1159,7 +1225,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glUniform4fvARB Uniform4fvARB} */
@@ -1168,7 +1236,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glUniform1ivARB Uniform1ivARB} */
@@ -1177,7 +1247,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glUniform2ivARB Uniform2ivARB} */
@@ -1186,7 +1258,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glUniform3ivARB Uniform3ivARB} */
@@ -1195,7 +1269,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glUniform4ivARB Uniform4ivARB} */
@@ -1204,7 +1280,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix2fvARB UniformMatrix2fvARB} */
@@ -1213,7 +1291,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix3fvARB UniformMatrix3fvARB} */
@@ -1222,7 +1302,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix4fvARB UniformMatrix4fvARB} */
@@ -1231,7 +1313,9 @@ public class ARBShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glGetObjectParameterfvARB GetObjectParameterfvARB} */
@@ -1241,7 +1325,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(obj, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glGetObjectParameterivARB GetObjectParameterivARB} */
@@ -1251,7 +1337,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(obj, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glGetInfoLogARB GetInfoLogARB} */
@@ -1261,7 +1349,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(obj, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glGetAttachedObjectsARB GetAttachedObjectsARB} */
@@ -1271,7 +1361,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             checkSafe(count, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(containerObj, obj.length, count, obj, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glGetActiveUniformARB GetActiveUniformARB} */
@@ -1283,7 +1375,9 @@ public class ARBShaderObjects {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(programObj, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glGetUniformfvARB GetUniformfvARB} */
@@ -1293,7 +1387,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(programObj, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glGetUniformivARB GetUniformivARB} */
@@ -1303,7 +1399,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(programObj, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glGetShaderSourceARB GetShaderSourceARB} */
@@ -1313,7 +1411,9 @@ public class ARBShaderObjects {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(obj, source.remaining(), length, memAddress(source), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
 }
\ No newline at end of file
@@ -82,6 +82,8 @@ public class ARBShadingLanguageInclude {
         GL_NAMED_STRING_LENGTH_ARB = 0x8DE9,
         GL_NAMED_STRING_TYPE_ARB   = 0x8DEA;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBShadingLanguageInclude.class, "glNamedStringARB,glDeleteNamedStringARB,glCompileShaderIncludeARB,glIsNamedStringARB,glGetNamedStringARB,glGetNamedStringivARB");
+
     static { GL.initialize(); }
 
     protected ARBShadingLanguageInclude() {
@@ -116,7 +118,9 @@ public class ARBShadingLanguageInclude {
      * @param string an arbitrary string of characters
      */
     public static void glNamedStringARB(@NativeType("GLenum") int type, @NativeType("GLchar const *") ByteBuffer name, @NativeType("GLchar const *") ByteBuffer string) {
+        long __start = FunctionProfiler.start();
         nglNamedStringARB(type, name.remaining(), memAddress(name), string.remaining(), memAddress(string));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -136,7 +140,9 @@ public class ARBShadingLanguageInclude {
             long nameEncoded = stack.getPointerAddress();
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglNamedStringARB(type, nameEncodedLength, nameEncoded, stringEncodedLength, stringEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -157,7 +163,9 @@ public class ARBShadingLanguageInclude {
      * @param name the name associated with the string
      */
     public static void glDeleteNamedStringARB(@NativeType("GLchar const *") ByteBuffer name) {
+        long __start = FunctionProfiler.start();
         nglDeleteNamedStringARB(name.remaining(), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -170,7 +178,9 @@ public class ARBShadingLanguageInclude {
         try {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglDeleteNamedStringARB(nameEncodedLength, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -196,7 +206,9 @@ public class ARBShadingLanguageInclude {
         if (CHECKS) {
             checkSafe(length, path.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglCompileShaderIncludeARB(shader, path.remaining(), memAddress(path), memAddressSafe(length));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glIsNamedStringARB ] ---
@@ -216,7 +228,8 @@ public class ARBShadingLanguageInclude {
      */
     @NativeType("GLboolean")
     public static boolean glIsNamedStringARB(@NativeType("GLchar const *") ByteBuffer name) {
-        return nglIsNamedStringARB(name.remaining(), memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglIsNamedStringARB(name.remaining(), memAddress(name)));
     }
 
     /**
@@ -231,7 +244,8 @@ public class ARBShadingLanguageInclude {
         try {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
-            return nglIsNamedStringARB(nameEncodedLength, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nglIsNamedStringARB(nameEncodedLength, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -259,7 +273,9 @@ public class ARBShadingLanguageInclude {
         if (CHECKS) {
             checkSafe(stringlen, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedStringARB(name.remaining(), memAddress(name), string.remaining(), memAddressSafe(stringlen), memAddress(string));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -278,7 +294,9 @@ public class ARBShadingLanguageInclude {
         try {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglGetNamedStringARB(nameEncodedLength, nameEncoded, string.remaining(), memAddressSafe(stringlen), memAddress(string));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -298,7 +316,9 @@ public class ARBShadingLanguageInclude {
             long nameEncoded = stack.getPointerAddress();
             IntBuffer stringlen = stack.ints(0);
             ByteBuffer string = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetNamedStringARB(nameEncodedLength, nameEncoded, bufSize, memAddress(stringlen), memAddress(string));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return memUTF8(string, stringlen.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -335,7 +355,9 @@ public class ARBShadingLanguageInclude {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedStringivARB(name.remaining(), memAddress(name), pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -353,7 +375,9 @@ public class ARBShadingLanguageInclude {
         try {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglGetNamedStringivARB(nameEncodedLength, nameEncoded, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -372,7 +396,9 @@ public class ARBShadingLanguageInclude {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedStringivARB(nameEncodedLength, nameEncoded, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -386,7 +412,9 @@ public class ARBShadingLanguageInclude {
             check(__functionAddress);
             checkSafe(length, path.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, path.remaining(), memAddress(path), length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetNamedStringARB GetNamedStringARB} */
@@ -396,7 +424,9 @@ public class ARBShadingLanguageInclude {
             check(__functionAddress);
             checkSafe(stringlen, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(name.remaining(), memAddress(name), string.remaining(), stringlen, memAddress(string), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetNamedStringARB GetNamedStringARB} */
@@ -410,7 +440,9 @@ public class ARBShadingLanguageInclude {
         try {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             callPPPV(nameEncodedLength, nameEncoded, string.remaining(), stringlen, memAddress(string), __functionAddress);
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -423,7 +455,9 @@ public class ARBShadingLanguageInclude {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(name.remaining(), memAddress(name), pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetNamedStringivARB GetNamedStringivARB} */
@@ -437,7 +471,9 @@ public class ARBShadingLanguageInclude {
         try {
             int nameEncodedLength = stack.nASCII(name, false);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             callPPV(nameEncodedLength, nameEncoded, pname, params, __functionAddress);
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -61,6 +61,8 @@ public class ARBTextureCompression {
         GL_NUM_COMPRESSED_TEXTURE_FORMATS_ARB = 0x86A2,
         GL_COMPRESSED_TEXTURE_FORMATS_ARB     = 0x86A3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBTextureCompression.class, "glCompressedTexImage3DARB,glCompressedTexImage2DARB,glCompressedTexImage1DARB,glCompressedTexSubImage3DARB,glCompressedTexSubImage2DARB,glCompressedTexSubImage1DARB,glGetCompressedTexImageARB");
+
     static { GL.initialize(); }
 
     protected ARBTextureCompression() {
@@ -97,7 +99,9 @@ public class ARBTextureCompression {
      * @param data           a pointer to the compressed image data
      */
     public static void glCompressedTexImage3DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage3DARB(target, level, internalformat, width, height, depth, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -112,7 +116,9 @@ public class ARBTextureCompression {
      * @param data           a pointer to the compressed image data
      */
     public static void glCompressedTexImage3DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage3DARB(target, level, internalformat, width, height, depth, 0, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glCompressedTexImage2DARB ] ---
@@ -137,7 +143,9 @@ public class ARBTextureCompression {
      * @param data           a pointer to the compressed image data
      */
     public static void glCompressedTexImage2DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage2DARB(target, level, internalformat, width, height, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -151,7 +159,9 @@ public class ARBTextureCompression {
      * @param data           a pointer to the compressed image data
      */
     public static void glCompressedTexImage2DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage2DARB(target, level, internalformat, width, height, 0, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glCompressedTexImage1DARB ] ---
@@ -175,7 +185,9 @@ public class ARBTextureCompression {
      * @param data           a pointer to the compressed image data
      */
     public static void glCompressedTexImage1DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage1DARB(target, level, internalformat, width, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -188,7 +200,9 @@ public class ARBTextureCompression {
      * @param data           a pointer to the compressed image data
      */
     public static void glCompressedTexImage1DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage1DARB(target, level, internalformat, width, 0, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glCompressedTexSubImage3DARB ] ---
@@ -216,7 +230,9 @@ public class ARBTextureCompression {
      * @param data      a pointer to the compressed image data
      */
     public static void glCompressedTexSubImage3DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage3DARB(target, level, xoffset, yoffset, zoffset, width, height, depth, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -234,7 +250,9 @@ public class ARBTextureCompression {
      * @param data    a pointer to the compressed image data
      */
     public static void glCompressedTexSubImage3DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage3DARB(target, level, xoffset, yoffset, zoffset, width, height, depth, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glCompressedTexSubImage2DARB ] ---
@@ -260,7 +278,9 @@ public class ARBTextureCompression {
      * @param data      a pointer to the compressed image data
      */
     public static void glCompressedTexSubImage2DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage2DARB(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -276,7 +296,9 @@ public class ARBTextureCompression {
      * @param data    a pointer to the compressed image data
      */
     public static void glCompressedTexSubImage2DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage2DARB(target, level, xoffset, yoffset, width, height, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glCompressedTexSubImage1DARB ] ---
@@ -300,7 +322,9 @@ public class ARBTextureCompression {
      * @param data      a pointer to the compressed image data
      */
     public static void glCompressedTexSubImage1DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage1DARB(target, level, xoffset, width, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -314,7 +338,9 @@ public class ARBTextureCompression {
      * @param data    a pointer to the compressed image data
      */
     public static void glCompressedTexSubImage1DARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage1DARB(target, level, xoffset, width, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glGetCompressedTexImageARB ] ---
@@ -335,7 +361,9 @@ public class ARBTextureCompression {
                 check(pixels, GL11.glGetTexLevelParameteri(target, level, GL_TEXTURE_COMPRESSED_IMAGE_SIZE_ARB));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetCompressedTexImageARB(target, level, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -346,7 +374,9 @@ public class ARBTextureCompression {
      * @param pixels a buffer in which to return the compressed texture image
      */
     public static void glGetCompressedTexImageARB(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTexImageARB(target, level, pixels);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
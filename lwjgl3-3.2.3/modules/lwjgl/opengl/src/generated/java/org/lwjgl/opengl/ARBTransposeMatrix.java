@@ -35,6 +35,8 @@ public class ARBTransposeMatrix {
         GL_TRANSPOSE_TEXTURE_MATRIX_ARB    = 0x84E5,
         GL_TRANSPOSE_COLOR_MATRIX_ARB      = 0x84E6;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBTransposeMatrix.class, "glLoadTransposeMatrixfARB,glLoadTransposeMatrixdARB,glMultTransposeMatrixfARB,glMultTransposeMatrixdARB");
+
     static { GL.initialize(); }
 
     protected ARBTransposeMatrix() {
@@ -70,7 +72,9 @@ public class ARBTransposeMatrix {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglLoadTransposeMatrixfARB(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glLoadTransposeMatrixdARB ] ---
@@ -87,7 +91,9 @@ public class ARBTransposeMatrix {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglLoadTransposeMatrixdARB(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glMultTransposeMatrixfARB ] ---
@@ -104,7 +110,9 @@ public class ARBTransposeMatrix {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMultTransposeMatrixfARB(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMultTransposeMatrixdARB ] ---
@@ -121,7 +129,9 @@ public class ARBTransposeMatrix {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMultTransposeMatrixdARB(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glLoadTransposeMatrixfARB LoadTransposeMatrixfARB} */
@@ -131,7 +141,9 @@ public class ARBTransposeMatrix {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glLoadTransposeMatrixdARB LoadTransposeMatrixdARB} */
@@ -141,7 +153,9 @@ public class ARBTransposeMatrix {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMultTransposeMatrixfARB MultTransposeMatrixfARB} */
@@ -151,7 +165,9 @@ public class ARBTransposeMatrix {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glMultTransposeMatrixdARB MultTransposeMatrixdARB} */
@@ -161,7 +177,9 @@ public class ARBTransposeMatrix {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -90,6 +90,8 @@ public class ARBVertexBlend {
      */
     public static final int GL_WEIGHT_ARRAY_ARB = 0x86AD;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBVertexBlend.class, "glWeightfvARB,glWeightbvARB,glWeightubvARB,glWeightsvARB,glWeightusvARB,glWeightivARB,glWeightuivARB,glWeightdvARB,glWeightPointerARB");
+
     static { GL.initialize(); }
 
     protected ARBVertexBlend() {
@@ -118,7 +120,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightfvARB(@NativeType("GLfloat *") FloatBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightfvARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glWeightbvARB ] ---
@@ -136,7 +140,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightbvARB(@NativeType("GLbyte *") ByteBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightbvARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glWeightubvARB ] ---
@@ -154,7 +160,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightubvARB(@NativeType("GLubyte *") ByteBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightubvARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glWeightsvARB ] ---
@@ -172,7 +180,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightsvARB(@NativeType("GLshort *") ShortBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightsvARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glWeightusvARB ] ---
@@ -190,7 +200,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightusvARB(@NativeType("GLushort *") ShortBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightusvARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glWeightivARB ] ---
@@ -208,7 +220,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightivARB(@NativeType("GLint *") IntBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightivARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glWeightuivARB ] ---
@@ -226,7 +240,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightuivARB(@NativeType("GLuint *") IntBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightuivARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glWeightdvARB ] ---
@@ -244,7 +260,9 @@ public class ARBVertexBlend {
      * @param weights the vertex weights
      */
     public static void glWeightdvARB(@NativeType("GLdouble *") DoubleBuffer weights) {
+        long __start = FunctionProfiler.start();
         nglWeightdvARB(weights.remaining(), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glWeightPointerARB ] ---
@@ -261,7 +279,9 @@ public class ARBVertexBlend {
      * @param pointer the weight data
      */
     public static void glWeightPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglWeightPointerARB(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -273,7 +293,9 @@ public class ARBVertexBlend {
      * @param pointer the weight data
      */
     public static void glWeightPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglWeightPointerARB(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -285,7 +307,9 @@ public class ARBVertexBlend {
      * @param pointer the weight data
      */
     public static void glWeightPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglWeightPointerARB(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -297,7 +321,9 @@ public class ARBVertexBlend {
      * @param pointer the weight data
      */
     public static void glWeightPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglWeightPointerARB(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -309,7 +335,9 @@ public class ARBVertexBlend {
      * @param pointer the weight data
      */
     public static void glWeightPointerARB(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglWeightPointerARB(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glVertexBlendARB ] ---
@@ -327,7 +355,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(weights.length, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glWeightsvARB WeightsvARB} */
@@ -336,7 +366,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(weights.length, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glWeightusvARB WeightusvARB} */
@@ -345,7 +377,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(weights.length, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glWeightivARB WeightivARB} */
@@ -354,7 +388,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(weights.length, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glWeightuivARB WeightuivARB} */
@@ -363,7 +399,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(weights.length, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glWeightdvARB WeightdvARB} */
@@ -372,7 +410,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(weights.length, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glWeightPointerARB WeightPointerARB} */
@@ -381,7 +421,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glWeightPointerARB WeightPointerARB} */
@@ -390,7 +432,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glWeightPointerARB WeightPointerARB} */
@@ -399,7 +443,9 @@ public class ARBVertexBlend {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
 }
\ No newline at end of file
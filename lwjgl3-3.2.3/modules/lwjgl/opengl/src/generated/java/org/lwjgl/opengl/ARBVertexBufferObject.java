@@ -111,6 +111,8 @@ public class ARBVertexBufferObject {
     /** Accepted by the {@code pname} parameter of GetBufferPointervARB. */
     public static final int GL_BUFFER_MAP_POINTER_ARB = 0x88BD;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBVertexBufferObject.class, "glDeleteBuffersARB,glGenBuffersARB,glBufferDataARB,glBufferSubDataARB,glGetBufferSubDataARB,glMapBufferARB,glGetBufferParameterivARB,glGetBufferPointervARB");
+
     static { GL.initialize(); }
 
     protected ARBVertexBufferObject() {
@@ -149,7 +151,9 @@ public class ARBVertexBufferObject {
      * @param buffers an array of buffer objects to be deleted
      */
     public static void glDeleteBuffersARB(@NativeType("GLuint const *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteBuffersARB(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Deletes named buffer objects. */
@@ -157,7 +161,9 @@ public class ARBVertexBufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.ints(buffer);
+            long __start = FunctionProfiler.start();
             nglDeleteBuffersARB(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -178,7 +184,9 @@ public class ARBVertexBufferObject {
      * @param buffers a buffer in which the generated buffer object names are stored
      */
     public static void glGenBuffersARB(@NativeType("GLuint *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglGenBuffersARB(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Generates buffer object names. */
@@ -187,7 +195,9 @@ public class ARBVertexBufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenBuffersARB(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return buffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -240,7 +250,9 @@ public class ARBVertexBufferObject {
      * @param usage  the expected usage pattern of the data store. One of:<br><table><tr><td>{@link #GL_STREAM_DRAW_ARB STREAM_DRAW_ARB}</td><td>{@link #GL_STREAM_READ_ARB STREAM_READ_ARB}</td><td>{@link #GL_STREAM_COPY_ARB STREAM_COPY_ARB}</td><td>{@link #GL_STATIC_DRAW_ARB STATIC_DRAW_ARB}</td><td>{@link #GL_STATIC_READ_ARB STATIC_READ_ARB}</td></tr><tr><td>{@link #GL_STATIC_COPY_ARB STATIC_COPY_ARB}</td><td>{@link #GL_DYNAMIC_DRAW_ARB DYNAMIC_DRAW_ARB}</td><td>{@link #GL_DYNAMIC_READ_ARB DYNAMIC_READ_ARB}</td><td>{@link #GL_DYNAMIC_COPY_ARB DYNAMIC_COPY_ARB}</td></tr></table>
      */
     public static void glBufferDataARB(@NativeType("GLenum") int target, @NativeType("GLsizeiptrARB") long size, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferDataARB(target, size, NULL, usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -270,7 +282,9 @@ public class ARBVertexBufferObject {
      * @param usage  the expected usage pattern of the data store. One of:<br><table><tr><td>{@link #GL_STREAM_DRAW_ARB STREAM_DRAW_ARB}</td><td>{@link #GL_STREAM_READ_ARB STREAM_READ_ARB}</td><td>{@link #GL_STREAM_COPY_ARB STREAM_COPY_ARB}</td><td>{@link #GL_STATIC_DRAW_ARB STATIC_DRAW_ARB}</td><td>{@link #GL_STATIC_READ_ARB STATIC_READ_ARB}</td></tr><tr><td>{@link #GL_STATIC_COPY_ARB STATIC_COPY_ARB}</td><td>{@link #GL_DYNAMIC_DRAW_ARB DYNAMIC_DRAW_ARB}</td><td>{@link #GL_DYNAMIC_READ_ARB DYNAMIC_READ_ARB}</td><td>{@link #GL_DYNAMIC_COPY_ARB DYNAMIC_COPY_ARB}</td></tr></table>
      */
     public static void glBufferDataARB(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferDataARB(target, data.remaining(), memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -300,7 +314,9 @@ public class ARBVertexBufferObject {
      * @param usage  the expected usage pattern of the data store. One of:<br><table><tr><td>{@link #GL_STREAM_DRAW_ARB STREAM_DRAW_ARB}</td><td>{@link #GL_STREAM_READ_ARB STREAM_READ_ARB}</td><td>{@link #GL_STREAM_COPY_ARB STREAM_COPY_ARB}</td><td>{@link #GL_STATIC_DRAW_ARB STATIC_DRAW_ARB}</td><td>{@link #GL_STATIC_READ_ARB STATIC_READ_ARB}</td></tr><tr><td>{@link #GL_STATIC_COPY_ARB STATIC_COPY_ARB}</td><td>{@link #GL_DYNAMIC_DRAW_ARB DYNAMIC_DRAW_ARB}</td><td>{@link #GL_DYNAMIC_READ_ARB DYNAMIC_READ_ARB}</td><td>{@link #GL_DYNAMIC_COPY_ARB DYNAMIC_COPY_ARB}</td></tr></table>
      */
     public static void glBufferDataARB(@NativeType("GLenum") int target, @NativeType("void const *") ShortBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferDataARB(target, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -330,7 +346,9 @@ public class ARBVertexBufferObject {
      * @param usage  the expected usage pattern of the data store. One of:<br><table><tr><td>{@link #GL_STREAM_DRAW_ARB STREAM_DRAW_ARB}</td><td>{@link #GL_STREAM_READ_ARB STREAM_READ_ARB}</td><td>{@link #GL_STREAM_COPY_ARB STREAM_COPY_ARB}</td><td>{@link #GL_STATIC_DRAW_ARB STATIC_DRAW_ARB}</td><td>{@link #GL_STATIC_READ_ARB STATIC_READ_ARB}</td></tr><tr><td>{@link #GL_STATIC_COPY_ARB STATIC_COPY_ARB}</td><td>{@link #GL_DYNAMIC_DRAW_ARB DYNAMIC_DRAW_ARB}</td><td>{@link #GL_DYNAMIC_READ_ARB DYNAMIC_READ_ARB}</td><td>{@link #GL_DYNAMIC_COPY_ARB DYNAMIC_COPY_ARB}</td></tr></table>
      */
     public static void glBufferDataARB(@NativeType("GLenum") int target, @NativeType("void const *") IntBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferDataARB(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -360,7 +378,9 @@ public class ARBVertexBufferObject {
      * @param usage  the expected usage pattern of the data store. One of:<br><table><tr><td>{@link #GL_STREAM_DRAW_ARB STREAM_DRAW_ARB}</td><td>{@link #GL_STREAM_READ_ARB STREAM_READ_ARB}</td><td>{@link #GL_STREAM_COPY_ARB STREAM_COPY_ARB}</td><td>{@link #GL_STATIC_DRAW_ARB STATIC_DRAW_ARB}</td><td>{@link #GL_STATIC_READ_ARB STATIC_READ_ARB}</td></tr><tr><td>{@link #GL_STATIC_COPY_ARB STATIC_COPY_ARB}</td><td>{@link #GL_DYNAMIC_DRAW_ARB DYNAMIC_DRAW_ARB}</td><td>{@link #GL_DYNAMIC_READ_ARB DYNAMIC_READ_ARB}</td><td>{@link #GL_DYNAMIC_COPY_ARB DYNAMIC_COPY_ARB}</td></tr></table>
      */
     public static void glBufferDataARB(@NativeType("GLenum") int target, @NativeType("void const *") FloatBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferDataARB(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -390,7 +410,9 @@ public class ARBVertexBufferObject {
      * @param usage  the expected usage pattern of the data store. One of:<br><table><tr><td>{@link #GL_STREAM_DRAW_ARB STREAM_DRAW_ARB}</td><td>{@link #GL_STREAM_READ_ARB STREAM_READ_ARB}</td><td>{@link #GL_STREAM_COPY_ARB STREAM_COPY_ARB}</td><td>{@link #GL_STATIC_DRAW_ARB STATIC_DRAW_ARB}</td><td>{@link #GL_STATIC_READ_ARB STATIC_READ_ARB}</td></tr><tr><td>{@link #GL_STATIC_COPY_ARB STATIC_COPY_ARB}</td><td>{@link #GL_DYNAMIC_DRAW_ARB DYNAMIC_DRAW_ARB}</td><td>{@link #GL_DYNAMIC_READ_ARB DYNAMIC_READ_ARB}</td><td>{@link #GL_DYNAMIC_COPY_ARB DYNAMIC_COPY_ARB}</td></tr></table>
      */
     public static void glBufferDataARB(@NativeType("GLenum") int target, @NativeType("void const *") DoubleBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferDataARB(target, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glBufferSubDataARB ] ---
@@ -410,7 +432,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the new data that will be copied into the data store
      */
     public static void glBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubDataARB(target, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -421,7 +445,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the new data that will be copied into the data store
      */
     public static void glBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -432,7 +458,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the new data that will be copied into the data store
      */
     public static void glBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -443,7 +471,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the new data that will be copied into the data store
      */
     public static void glBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -454,7 +484,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the new data that will be copied into the data store
      */
     public static void glBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetBufferSubDataARB ] ---
@@ -474,7 +506,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the location where buffer object data is returned
      */
     public static void glGetBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubDataARB(target, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -485,7 +519,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the location where buffer object data is returned
      */
     public static void glGetBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -496,7 +532,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the location where buffer object data is returned
      */
     public static void glGetBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -507,7 +545,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the location where buffer object data is returned
      */
     public static void glGetBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -518,7 +558,9 @@ public class ARBVertexBufferObject {
      * @param data   a pointer to the location where buffer object data is returned
      */
     public static void glGetBufferSubDataARB(@NativeType("GLenum") int target, @NativeType("GLintptrARB") long offset, @NativeType("void *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubDataARB(target, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glMapBufferARB ] ---
@@ -543,7 +585,8 @@ public class ARBVertexBufferObject {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferARB(@NativeType("GLenum") int target, @NativeType("GLenum") int access) {
-        long __result = nglMapBufferARB(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nglMapBufferARB(target, access));
         return memByteBufferSafe(__result, glGetBufferParameteriARB(target, GL_BUFFER_SIZE_ARB));
     }
 
@@ -564,7 +607,8 @@ public class ARBVertexBufferObject {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferARB(@NativeType("GLenum") int target, @NativeType("GLenum") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferARB(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nglMapBufferARB(target, access));
         int length = glGetBufferParameteriARB(target, GL_BUFFER_SIZE_ARB);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -586,7 +630,8 @@ public class ARBVertexBufferObject {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferARB(@NativeType("GLenum") int target, @NativeType("GLenum") int access, long length, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferARB(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nglMapBufferARB(target, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -621,7 +666,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferParameterivARB(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -635,7 +682,9 @@ public class ARBVertexBufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferParameterivARB(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -658,7 +707,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferPointervARB(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -672,7 +723,9 @@ public class ARBVertexBufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferPointervARB(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -685,7 +738,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGenBuffersARB GenBuffersARB} */
@@ -694,7 +749,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glBufferDataARB BufferDataARB} */
@@ -703,7 +760,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 1, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glBufferDataARB BufferDataARB} */
@@ -712,7 +771,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glBufferDataARB BufferDataARB} */
@@ -721,7 +782,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glBufferDataARB BufferDataARB} */
@@ -730,7 +793,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 3, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glBufferSubDataARB BufferSubDataARB} */
@@ -739,7 +804,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glBufferSubDataARB BufferSubDataARB} */
@@ -748,7 +815,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glBufferSubDataARB BufferSubDataARB} */
@@ -757,7 +826,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glBufferSubDataARB BufferSubDataARB} */
@@ -766,7 +837,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetBufferSubDataARB GetBufferSubDataARB} */
@@ -775,7 +848,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetBufferSubDataARB GetBufferSubDataARB} */
@@ -784,7 +859,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetBufferSubDataARB GetBufferSubDataARB} */
@@ -793,7 +870,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetBufferSubDataARB GetBufferSubDataARB} */
@@ -802,7 +881,9 @@ public class ARBVertexBufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetBufferParameterivARB GetBufferParameterivARB} */
@@ -812,7 +893,9 @@ public class ARBVertexBufferObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
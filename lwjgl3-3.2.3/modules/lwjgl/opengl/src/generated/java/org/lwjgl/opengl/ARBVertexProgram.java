@@ -161,6 +161,8 @@ public class ARBVertexProgram {
         GL_MATRIX30_ARB = 0x88DE,
         GL_MATRIX31_ARB = 0x88DF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBVertexProgram.class, "glProgramStringARB,glDeleteProgramsARB,glGenProgramsARB,glProgramEnvParameter4dvARB,glProgramEnvParameter4fvARB,glProgramLocalParameter4dvARB,glProgramLocalParameter4fvARB,glGetProgramEnvParameterfvARB,glGetProgramEnvParameterdvARB,glGetProgramLocalParameterfvARB,glGetProgramLocalParameterdvARB,glGetProgramivARB,glGetProgramStringARB");
+
     static { GL.initialize(); }
 
     protected ARBVertexProgram() {
@@ -891,7 +893,9 @@ public class ARBVertexProgram {
      * @param string an array of bytes representing the program string being loaded
      */
     public static void glProgramStringARB(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer string) {
+        long __start = FunctionProfiler.start();
         nglProgramStringARB(target, format, string.remaining(), memAddress(string));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glBindProgramARB ] ---
@@ -921,7 +925,9 @@ public class ARBVertexProgram {
      * @param programs an array of {@code n} program objects to be deleted
      */
     public static void glDeleteProgramsARB(@NativeType("GLuint const *") IntBuffer programs) {
+        long __start = FunctionProfiler.start();
         nglDeleteProgramsARB(programs.remaining(), memAddress(programs));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glGenProgramsARB ] ---
@@ -940,7 +946,9 @@ public class ARBVertexProgram {
      * @param programs an array in which to return the generated program names
      */
     public static void glGenProgramsARB(@NativeType("GLuint *") IntBuffer programs) {
+        long __start = FunctionProfiler.start();
         nglGenProgramsARB(programs.remaining(), memAddress(programs));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -952,7 +960,9 @@ public class ARBVertexProgram {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer programs = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenProgramsARB(1, memAddress(programs));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return programs.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -989,7 +999,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglProgramEnvParameter4dvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glProgramEnvParameter4fARB ] ---
@@ -1022,7 +1034,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglProgramEnvParameter4fvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glProgramLocalParameter4dARB ] ---
@@ -1055,7 +1069,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglProgramLocalParameter4dvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glProgramLocalParameter4fARB ] ---
@@ -1088,7 +1104,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglProgramLocalParameter4fvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glGetProgramEnvParameterfvARB ] ---
@@ -1108,7 +1126,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramEnvParameterfvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glGetProgramEnvParameterdvARB ] ---
@@ -1127,7 +1147,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramEnvParameterdvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glGetProgramLocalParameterfvARB ] ---
@@ -1147,7 +1169,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramLocalParameterfvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glGetProgramLocalParameterdvARB ] ---
@@ -1166,7 +1190,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramLocalParameterdvARB(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glGetProgramivARB ] ---
@@ -1186,7 +1212,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramivARB(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1201,7 +1229,9 @@ public class ARBVertexProgram {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramivARB(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1229,7 +1259,9 @@ public class ARBVertexProgram {
                 check(string, glGetProgramiARB(target, GL_PROGRAM_LENGTH_ARB));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramStringARB(target, pname, memAddress(string));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glGetVertexAttribfvARB ] ---
@@ -1454,7 +1486,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(programs.length, programs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGenProgramsARB GenProgramsARB} */
@@ -1463,7 +1497,9 @@ public class ARBVertexProgram {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(programs.length, programs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glProgramEnvParameter4dvARB ProgramEnvParameter4dvARB} */
@@ -1473,7 +1509,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glProgramEnvParameter4fvARB ProgramEnvParameter4fvARB} */
@@ -1483,7 +1521,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glProgramLocalParameter4dvARB ProgramLocalParameter4dvARB} */
@@ -1493,7 +1533,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glProgramLocalParameter4fvARB ProgramLocalParameter4fvARB} */
@@ -1503,7 +1545,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glGetProgramEnvParameterfvARB GetProgramEnvParameterfvARB} */
@@ -1513,7 +1557,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetProgramEnvParameterdvARB GetProgramEnvParameterdvARB} */
@@ -1523,7 +1569,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glGetProgramLocalParameterfvARB GetProgramLocalParameterfvARB} */
@@ -1533,7 +1581,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glGetProgramLocalParameterdvARB GetProgramLocalParameterdvARB} */
@@ -1543,7 +1593,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glGetProgramivARB GetProgramivARB} */
@@ -1553,7 +1605,9 @@ public class ARBVertexProgram {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribfvARB GetVertexAttribfvARB} */
@@ -78,6 +78,8 @@ public class ARBVertexShader {
         GL_FLOAT_MAT3_ARB = 0x8B5B,
         GL_FLOAT_MAT4_ARB = 0x8B5C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBVertexShader.class, "glVertexAttrib1fvARB,glVertexAttrib1svARB,glVertexAttrib1dvARB,glVertexAttrib2fvARB,glVertexAttrib2svARB,glVertexAttrib2dvARB,glVertexAttrib3fvARB,glVertexAttrib3svARB,glVertexAttrib3dvARB,glVertexAttrib4fvARB,glVertexAttrib4svARB,glVertexAttrib4dvARB,glVertexAttrib4ivARB,glVertexAttrib4bvARB,glVertexAttrib4ubvARB,glVertexAttrib4usvARB,glVertexAttrib4uivARB,glVertexAttrib4NbvARB,glVertexAttrib4NsvARB,glVertexAttrib4NivARB,glVertexAttrib4NubvARB,glVertexAttrib4NusvARB,glVertexAttrib4NuivARB,glVertexAttribPointerARB,glBindAttribLocationARB,glGetActiveAttribARB,glGetAttribLocationARB,glGetVertexAttribivARB,glGetVertexAttribfvARB,glGetVertexAttribdvARB,glGetVertexAttribPointervARB");
+
     static { GL.initialize(); }
 
     protected ARBVertexShader() {
@@ -265,7 +267,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1fvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertexAttrib1svARB ] ---
@@ -283,7 +287,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1svARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glVertexAttrib1dvARB ] ---
@@ -301,7 +307,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1dvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glVertexAttrib2fvARB ] ---
@@ -319,7 +327,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2fvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glVertexAttrib2svARB ] ---
@@ -337,7 +347,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2svARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glVertexAttrib2dvARB ] ---
@@ -355,7 +367,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2dvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glVertexAttrib3fvARB ] ---
@@ -373,7 +387,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3fvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glVertexAttrib3svARB ] ---
@@ -391,7 +407,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3svARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glVertexAttrib3dvARB ] ---
@@ -409,7 +427,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3dvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glVertexAttrib4fvARB ] ---
@@ -427,7 +447,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4fvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glVertexAttrib4svARB ] ---
@@ -445,7 +467,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4svARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glVertexAttrib4dvARB ] ---
@@ -463,7 +487,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4dvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glVertexAttrib4ivARB ] ---
@@ -481,7 +507,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4ivARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glVertexAttrib4bvARB ] ---
@@ -499,7 +527,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4bvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glVertexAttrib4ubvARB ] ---
@@ -517,7 +547,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4ubvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glVertexAttrib4usvARB ] ---
@@ -535,7 +567,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4usvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glVertexAttrib4uivARB ] ---
@@ -553,7 +587,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4uivARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glVertexAttrib4NbvARB ] ---
@@ -571,7 +607,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4NbvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glVertexAttrib4NsvARB ] ---
@@ -589,7 +627,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4NsvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glVertexAttrib4NivARB ] ---
@@ -607,7 +647,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4NivARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glVertexAttrib4NubvARB ] ---
@@ -625,7 +667,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4NubvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glVertexAttrib4NusvARB ] ---
@@ -643,7 +687,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4NusvARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glVertexAttrib4NuivARB ] ---
@@ -661,7 +707,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4NuivARB(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glVertexAttribPointerARB ] ---
@@ -682,7 +730,9 @@ public class ARBVertexShader {
      *                   currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribPointerARB(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointerARB(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -698,7 +748,9 @@ public class ARBVertexShader {
      *                   currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribPointerARB(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointerARB(index, size, type, normalized, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -714,7 +766,9 @@ public class ARBVertexShader {
      *                   currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribPointerARB(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointerARB(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -730,7 +784,9 @@ public class ARBVertexShader {
      *                   currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribPointerARB(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointerARB(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -746,7 +802,9 @@ public class ARBVertexShader {
      *                   currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribPointerARB(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointerARB(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glEnableVertexAttribArrayARB ] ---
@@ -783,7 +841,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindAttribLocationARB(programObj, index, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -798,7 +858,9 @@ public class ARBVertexShader {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindAttribLocationARB(programObj, index, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -830,7 +892,9 @@ public class ARBVertexShader {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveAttribARB(programObj, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -852,7 +916,9 @@ public class ARBVertexShader {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(maxLength);
+            long __start = FunctionProfiler.start();
             nglGetActiveAttribARB(programObj, index, maxLength, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -888,7 +954,8 @@ public class ARBVertexShader {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetAttribLocationARB(programObj, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nglGetAttribLocationARB(programObj, memAddress(name)));
     }
 
     /**
@@ -903,7 +970,8 @@ public class ARBVertexShader {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetAttribLocationARB(programObj, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 26, __start, nglGetAttribLocationARB(programObj, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -925,7 +993,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribivARB(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -939,7 +1009,9 @@ public class ARBVertexShader {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribivARB(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 27, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -962,7 +1034,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribfvARB(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glGetVertexAttribdvARB ] ---
@@ -981,7 +1055,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribdvARB(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glGetVertexAttribPointervARB ] ---
@@ -1000,7 +1076,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(pointer, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribPointervARB(index, pname, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -1014,7 +1092,9 @@ public class ARBVertexShader {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer pointer = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribPointervARB(index, pname, memAddress(pointer));
+            FunctionProfiler.end(PROFILE_ID + 30, __start);
             return pointer.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1028,7 +1108,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib1svARB VertexAttrib1svARB} */
@@ -1038,7 +1120,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib1dvARB VertexAttrib1dvARB} */
@@ -1048,7 +1132,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib2fvARB VertexAttrib2fvARB} */
@@ -1058,7 +1144,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib2svARB VertexAttrib2svARB} */
@@ -1068,7 +1156,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib2dvARB VertexAttrib2dvARB} */
@@ -1078,7 +1168,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib3fvARB VertexAttrib3fvARB} */
@@ -1088,7 +1180,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib3svARB VertexAttrib3svARB} */
@@ -1098,7 +1192,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib3dvARB VertexAttrib3dvARB} */
@@ -1108,7 +1204,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4fvARB VertexAttrib4fvARB} */
@@ -1118,7 +1216,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4svARB VertexAttrib4svARB} */
@@ -1128,7 +1228,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4dvARB VertexAttrib4dvARB} */
@@ -1138,7 +1240,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4ivARB VertexAttrib4ivARB} */
@@ -1148,7 +1252,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4usvARB VertexAttrib4usvARB} */
@@ -1158,7 +1264,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4uivARB VertexAttrib4uivARB} */
@@ -1168,7 +1276,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4NsvARB VertexAttrib4NsvARB} */
@@ -1178,7 +1288,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4NivARB VertexAttrib4NivARB} */
@@ -1188,7 +1300,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4NusvARB VertexAttrib4NusvARB} */
@@ -1198,7 +1312,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4NuivARB VertexAttrib4NuivARB} */
@@ -1208,7 +1324,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #glVertexAttribPointerARB VertexAttribPointerARB} */
@@ -1217,7 +1335,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, size, type, normalized, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glVertexAttribPointerARB VertexAttribPointerARB} */
@@ -1226,7 +1346,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, size, type, normalized, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glVertexAttribPointerARB VertexAttribPointerARB} */
@@ -1235,7 +1357,9 @@ public class ARBVertexShader {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, size, type, normalized, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glGetActiveAttribARB GetActiveAttribARB} */
@@ -1247,7 +1371,9 @@ public class ARBVertexShader {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(programObj, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribivARB GetVertexAttribivARB} */
@@ -1257,7 +1383,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribfvARB GetVertexAttribfvARB} */
@@ -1267,7 +1395,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribdvARB GetVertexAttribdvARB} */
@@ -1277,7 +1407,9 @@ public class ARBVertexShader {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
 }
\ No newline at end of file
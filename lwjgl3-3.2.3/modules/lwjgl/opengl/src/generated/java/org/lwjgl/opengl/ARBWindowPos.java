@@ -30,6 +30,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class ARBWindowPos {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ARBWindowPos.class, "glWindowPos2ivARB,glWindowPos2svARB,glWindowPos2fvARB,glWindowPos2dvARB,glWindowPos3ivARB,glWindowPos3svARB,glWindowPos3fvARB,glWindowPos3dvARB");
+
     static { GL.initialize(); }
 
     protected ARBWindowPos() {
@@ -98,7 +100,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2ivARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glWindowPos2svARB ] ---
@@ -115,7 +119,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2svARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glWindowPos2fvARB ] ---
@@ -132,7 +138,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2fvARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glWindowPos2dvARB ] ---
@@ -149,7 +157,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2dvARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glWindowPos3iARB ] ---
@@ -210,7 +220,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3ivARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glWindowPos3svARB ] ---
@@ -227,7 +239,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3svARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glWindowPos3fvARB ] ---
@@ -244,7 +258,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3fvARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glWindowPos3dvARB ] ---
@@ -261,7 +277,9 @@ public class ARBWindowPos {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3dvARB(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glWindowPos2ivARB WindowPos2ivARB} */
@@ -271,7 +289,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glWindowPos2svARB WindowPos2svARB} */
@@ -281,7 +301,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glWindowPos2fvARB WindowPos2fvARB} */
@@ -291,7 +313,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glWindowPos2dvARB WindowPos2dvARB} */
@@ -301,7 +325,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glWindowPos3ivARB WindowPos3ivARB} */
@@ -311,7 +337,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glWindowPos3svARB WindowPos3svARB} */
@@ -321,7 +349,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glWindowPos3fvARB WindowPos3fvARB} */
@@ -331,7 +361,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glWindowPos3dvARB WindowPos3dvARB} */
@@ -341,7 +373,9 @@ public class ARBWindowPos {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
 }
\ No newline at end of file
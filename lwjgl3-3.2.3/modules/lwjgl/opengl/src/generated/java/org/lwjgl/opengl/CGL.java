@@ -223,6 +223,8 @@ public class CGL {
         kCGLSupersampleBit = 0x1,
         kCGLMultisampleBit = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(CGL.class, "CGLGetCurrentContext,CGLSetCurrentContext,CGLGetShareGroup,CGLChoosePixelFormat,CGLDestroyPixelFormat,CGLDescribePixelFormat,CGLReleasePixelFormat,CGLRetainPixelFormat,CGLGetPixelFormatRetainCount,CGLQueryRendererInfo,CGLDestroyRendererInfo,CGLDescribeRenderer,CGLCreateContext,CGLDestroyContext,CGLCopyContext,CGLRetainContext,CGLReleaseContext,CGLGetContextRetainCount,CGLGetPixelFormat,CGLCreatePBuffer,CGLDestroyPBuffer,CGLDescribePBuffer,CGLTexImagePBuffer,CGLRetainPBuffer,CGLReleasePBuffer,CGLGetPBufferRetainCount,CGLSetOffScreen,CGLGetOffScreen,CGLSetFullScreen,CGLSetFullScreenOnDisplay,CGLSetPBuffer,CGLGetPBuffer,CGLClearDrawable,CGLFlushDrawable,CGLEnable,CGLDisable,CGLIsEnabled,CGLSetParameter,CGLGetParameter,CGLSetVirtualScreen,CGLGetVirtualScreen,CGLUpdateContext,CGLSetGlobalOption,CGLGetGlobalOption,CGLLockContext,CGLUnlockContext,CGLGetVersion,CGLErrorString");
+
     protected CGL() {
         throw new UnsupportedOperationException();
     }
@@ -291,7 +293,8 @@ public class CGL {
     @NativeType("CGLContextObj")
     public static long CGLGetCurrentContext() {
         long __functionAddress = Functions.GetCurrentContext;
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(__functionAddress));
     }
 
     // --- [ CGLSetCurrentContext ] ---
@@ -311,7 +314,8 @@ public class CGL {
     @NativeType("CGLError")
     public static int CGLSetCurrentContext(@NativeType("CGLContextObj") long context) {
         long __functionAddress = Functions.SetCurrentContext;
-        return callPI(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(context, __functionAddress));
     }
 
     // --- [ CGLGetShareGroup ] ---
@@ -327,7 +331,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPP(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPP(ctx, __functionAddress));
     }
 
     // --- [ CGLChoosePixelFormat ] ---
@@ -335,7 +340,8 @@ public class CGL {
     /** Unsafe version of: {@link #CGLChoosePixelFormat ChoosePixelFormat} */
     public static int nCGLChoosePixelFormat(long attribs, long pix, long npix) {
         long __functionAddress = Functions.ChoosePixelFormat;
-        return callPPPI(attribs, pix, npix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(attribs, pix, npix, __functionAddress));
     }
 
     /**
@@ -372,7 +378,8 @@ public class CGL {
         if (CHECKS) {
             check(pix);
         }
-        return callPI(pix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(pix, __functionAddress));
     }
 
     // --- [ CGLDescribePixelFormat ] ---
@@ -383,7 +390,8 @@ public class CGL {
         if (CHECKS) {
             check(pix);
         }
-        return callPPI(pix, pix_num, attrib, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(pix, pix_num, attrib, value, __functionAddress));
     }
 
     /**
@@ -419,7 +427,9 @@ public class CGL {
         if (CHECKS) {
             check(pix);
         }
+        long __start = FunctionProfiler.start();
         callPV(pix, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ CGLRetainPixelFormat ] ---
@@ -438,7 +448,8 @@ public class CGL {
         if (CHECKS) {
             check(pix);
         }
-        return callPP(pix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPP(pix, __functionAddress));
     }
 
     // --- [ CGLGetPixelFormatRetainCount ] ---
@@ -454,7 +465,8 @@ public class CGL {
         if (CHECKS) {
             check(pix);
         }
-        return callPI(pix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPI(pix, __functionAddress));
     }
 
     // --- [ CGLQueryRendererInfo ] ---
@@ -462,7 +474,8 @@ public class CGL {
     /** Unsafe version of: {@link #CGLQueryRendererInfo QueryRendererInfo} */
     public static int nCGLQueryRendererInfo(int display_mask, long rend, long nrend) {
         long __functionAddress = Functions.QueryRendererInfo;
-        return callPPI(display_mask, rend, nrend, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPI(display_mask, rend, nrend, __functionAddress));
     }
 
     /**
@@ -499,7 +512,8 @@ public class CGL {
         if (CHECKS) {
             check(rend);
         }
-        return callPI(rend, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPI(rend, __functionAddress));
     }
 
     // --- [ CGLDescribeRenderer ] ---
@@ -510,7 +524,8 @@ public class CGL {
         if (CHECKS) {
             check(rend);
         }
-        return callPPI(rend, rend_num, prop, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPI(rend, rend_num, prop, value, __functionAddress));
     }
 
     /**
@@ -541,7 +556,8 @@ public class CGL {
         if (CHECKS) {
             check(pix);
         }
-        return callPPPI(pix, share, ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPI(pix, share, ctx, __functionAddress));
     }
 
     /**
@@ -579,7 +595,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ CGLCopyContext ] ---
@@ -600,7 +617,8 @@ public class CGL {
             check(src);
             check(dst);
         }
-        return callPPI(src, dst, mask, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPI(src, dst, mask, __functionAddress));
     }
 
     // --- [ CGLRetainContext ] ---
@@ -621,7 +639,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPP(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPP(ctx, __functionAddress));
     }
 
     // --- [ CGLReleaseContext ] ---
@@ -643,7 +662,9 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         callPV(ctx, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ CGLGetContextRetainCount ] ---
@@ -659,7 +680,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ CGLGetPixelFormat ] ---
@@ -678,7 +700,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPP(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPP(ctx, __functionAddress));
     }
 
     // --- [ CGLCreatePBuffer ] ---
@@ -686,7 +709,8 @@ public class CGL {
     /** Unsafe version of: {@link #CGLCreatePBuffer CreatePBuffer} */
     public static int nCGLCreatePBuffer(int width, int height, int target, int internalFormat, int max_level, long pbuffer) {
         long __functionAddress = Functions.CreatePBuffer;
-        return callPI(width, height, target, internalFormat, max_level, pbuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPI(width, height, target, internalFormat, max_level, pbuffer, __functionAddress));
     }
 
     /**
@@ -742,7 +766,8 @@ public class CGL {
         if (CHECKS) {
             check(pbuffer);
         }
-        return callPI(pbuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPI(pbuffer, __functionAddress));
     }
 
     // --- [ CGLDescribePBuffer ] ---
@@ -753,7 +778,8 @@ public class CGL {
         if (CHECKS) {
             check(obj);
         }
-        return callPPPPPPI(obj, width, height, target, internalFormat, mipmap, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPI(obj, width, height, target, internalFormat, mipmap, __functionAddress));
     }
 
     /**
@@ -824,7 +850,8 @@ public class CGL {
             check(ctx);
             check(pbuffer);
         }
-        return callPPI(ctx, pbuffer, source, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPI(ctx, pbuffer, source, __functionAddress));
     }
 
     // --- [ CGLRetainPBuffer ] ---
@@ -845,7 +872,8 @@ public class CGL {
         if (CHECKS) {
             check(pbuffer);
         }
-        return callPP(pbuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPP(pbuffer, __functionAddress));
     }
 
     // --- [ CGLReleasePBuffer ] ---
@@ -864,7 +892,9 @@ public class CGL {
         if (CHECKS) {
             check(pbuffer);
         }
+        long __start = FunctionProfiler.start();
         callPV(pbuffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ CGLGetPBufferRetainCount ] ---
@@ -882,7 +912,8 @@ public class CGL {
         if (CHECKS) {
             check(pbuffer);
         }
-        return callPI(pbuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPI(pbuffer, __functionAddress));
     }
 
     // --- [ CGLSetOffScreen ] ---
@@ -893,7 +924,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPI(ctx, width, height, rowbytes, baseaddr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPPI(ctx, width, height, rowbytes, baseaddr, __functionAddress));
     }
 
     /**
@@ -934,7 +966,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPPPPI(ctx, width, height, rowbytes, baseaddr, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPPPPI(ctx, width, height, rowbytes, baseaddr, __functionAddress));
     }
 
     /**
@@ -987,7 +1020,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ CGLSetFullScreenOnDisplay ] ---
@@ -1021,7 +1055,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, display_mask, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPI(ctx, display_mask, __functionAddress));
     }
 
     // --- [ CGLSetPBuffer ] ---
@@ -1066,7 +1101,8 @@ public class CGL {
             check(ctx);
             check(pbuffer);
         }
-        return callPPI(ctx, pbuffer, face, level, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPPI(ctx, pbuffer, face, level, screen, __functionAddress));
     }
 
     // --- [ CGLGetPBuffer ] ---
@@ -1077,7 +1113,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPPPPI(ctx, pbuffer, face, level, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPPPPI(ctx, pbuffer, face, level, screen, __functionAddress));
     }
 
     /**
@@ -1116,7 +1153,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ CGLFlushDrawable ] ---
@@ -1141,7 +1179,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ CGLEnable ] ---
@@ -1158,7 +1197,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, pname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPI(ctx, pname, __functionAddress));
     }
 
     // --- [ CGLDisable ] ---
@@ -1175,7 +1215,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, pname, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPI(ctx, pname, __functionAddress));
     }
 
     // --- [ CGLIsEnabled ] ---
@@ -1186,7 +1227,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPI(ctx, pname, enable, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPI(ctx, pname, enable, __functionAddress));
     }
 
     /**
@@ -1212,7 +1254,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPI(ctx, pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPI(ctx, pname, params, __functionAddress));
     }
 
     /**
@@ -1255,7 +1298,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPI(ctx, pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPPI(ctx, pname, params, __functionAddress));
     }
 
     /**
@@ -1294,7 +1338,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPI(ctx, screen, __functionAddress));
     }
 
     // --- [ CGLGetVirtualScreen ] ---
@@ -1305,7 +1350,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPPI(ctx, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPI(ctx, screen, __functionAddress));
     }
 
     /**
@@ -1339,7 +1385,8 @@ public class CGL {
         if (CHECKS) {
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ CGLSetGlobalOption ] ---
@@ -1347,7 +1394,8 @@ public class CGL {
     /** Unsafe version of: {@link #CGLSetGlobalOption SetGlobalOption} */
     public static int nCGLSetGlobalOption(int pname, long params) {
         long __functionAddress = Functions.SetGlobalOption;
-        return callPI(pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPI(pname, params, __functionAddress));
     }
 
     /**
@@ -1385,7 +1433,8 @@ public class CGL {
     /** Unsafe version of: {@link #CGLGetGlobalOption GetGlobalOption} */
     public static int nCGLGetGlobalOption(int pname, long params) {
         long __functionAddress = Functions.GetGlobalOption;
-        return callPI(pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPI(pname, params, __functionAddress));
     }
 
     /**
@@ -1424,7 +1473,8 @@ public class CGL {
         if (CHECKS) {
             check(context);
         }
-        return callPI(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callPI(context, __functionAddress));
     }
 
     // --- [ CGLUnlockContext ] ---
@@ -1440,7 +1490,8 @@ public class CGL {
         if (CHECKS) {
             check(context);
         }
-        return callPI(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callPI(context, __functionAddress));
     }
 
     // --- [ CGLGetVersion ] ---
@@ -1448,7 +1499,9 @@ public class CGL {
     /** Unsafe version of: {@link #CGLGetVersion GetVersion} */
     public static void nCGLGetVersion(long majorvers, long minorvers) {
         long __functionAddress = Functions.GetVersion;
+        long __start = FunctionProfiler.start();
         callPPV(majorvers, minorvers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -1470,7 +1523,8 @@ public class CGL {
     /** Unsafe version of: {@link #CGLErrorString ErrorString} */
     public static long nCGLErrorString(int error) {
         long __functionAddress = Functions.ErrorString;
-        return callP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callP(error, __functionAddress));
     }
 
     /**
@@ -1494,7 +1548,8 @@ public class CGL {
             check(pix, 1);
             check(npix, 1);
         }
-        return callPPPI(attribs, memAddress(pix), npix, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(attribs, memAddress(pix), npix, __functionAddress));
     }
 
     /** Array version of: {@link #CGLDescribePixelFormat DescribePixelFormat} */
@@ -1505,7 +1560,8 @@ public class CGL {
             check(pix);
             check(value, 1);
         }
-        return callPPI(pix, pix_num, attrib, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(pix, pix_num, attrib, value, __functionAddress));
     }
 
     /** Array version of: {@link #CGLQueryRendererInfo QueryRendererInfo} */
@@ -1516,7 +1572,8 @@ public class CGL {
             check(rend, 1);
             check(nrend, 1);
         }
-        return callPPI(display_mask, memAddress(rend), nrend, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPI(display_mask, memAddress(rend), nrend, __functionAddress));
     }
 
     /** Array version of: {@link #CGLDescribeRenderer DescribeRenderer} */
@@ -1527,7 +1584,8 @@ public class CGL {
             check(rend);
             check(value, 1);
         }
-        return callPPI(rend, rend_num, prop, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPI(rend, rend_num, prop, value, __functionAddress));
     }
 
     /** Array version of: {@link #CGLDescribePBuffer DescribePBuffer} */
@@ -1542,7 +1600,8 @@ public class CGL {
             check(internalFormat, 1);
             check(mipmap, 1);
         }
-        return callPPPPPPI(obj, width, height, target, internalFormat, mipmap, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPPPI(obj, width, height, target, internalFormat, mipmap, __functionAddress));
     }
 
     /** Array version of: {@link #CGLGetOffScreen GetOffScreen} */
@@ -1556,7 +1615,8 @@ public class CGL {
             check(rowbytes, 1);
             check(baseaddr, 1);
         }
-        return callPPPPPI(ctx, width, height, rowbytes, memAddress(baseaddr), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPPPPI(ctx, width, height, rowbytes, memAddress(baseaddr), __functionAddress));
     }
 
     /** Array version of: {@link #CGLGetPBuffer GetPBuffer} */
@@ -1570,7 +1630,8 @@ public class CGL {
             check(level, 1);
             check(screen, 1);
         }
-        return callPPPPPI(ctx, memAddress(pbuffer), face, level, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPPPPI(ctx, memAddress(pbuffer), face, level, screen, __functionAddress));
     }
 
     /** Array version of: {@link #CGLIsEnabled IsEnabled} */
@@ -1581,7 +1642,8 @@ public class CGL {
             check(ctx);
             check(enable, 1);
         }
-        return callPPI(ctx, pname, enable, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPI(ctx, pname, enable, __functionAddress));
     }
 
     /** Array version of: {@link #CGLSetParameter SetParameter} */
@@ -1592,7 +1654,8 @@ public class CGL {
             check(ctx);
             check(params, 1);
         }
-        return callPPI(ctx, pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPI(ctx, pname, params, __functionAddress));
     }
 
     /** Array version of: {@link #CGLGetParameter GetParameter} */
@@ -1603,7 +1666,8 @@ public class CGL {
             check(ctx);
             check(params, 1);
         }
-        return callPPI(ctx, pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPPI(ctx, pname, params, __functionAddress));
     }
 
     /** Array version of: {@link #CGLGetVirtualScreen GetVirtualScreen} */
@@ -1614,7 +1678,8 @@ public class CGL {
             check(ctx);
             check(screen, 1);
         }
-        return callPPI(ctx, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPI(ctx, screen, __functionAddress));
     }
 
     /** Array version of: {@link #CGLSetGlobalOption SetGlobalOption} */
@@ -1624,7 +1689,8 @@ public class CGL {
         if (CHECKS) {
             check(params, 1);
         }
-        return callPI(pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPI(pname, params, __functionAddress));
     }
 
     /** Array version of: {@link #CGLGetGlobalOption GetGlobalOption} */
@@ -1634,7 +1700,8 @@ public class CGL {
         if (CHECKS) {
             check(params, 1);
         }
-        return callPI(pname, params, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callPI(pname, params, __functionAddress));
     }
 
     /** Array version of: {@link #CGLGetVersion GetVersion} */
@@ -1644,7 +1711,9 @@ public class CGL {
             check(majorvers, 1);
             check(minorvers, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(majorvers, minorvers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
 }
\ No newline at end of file
@@ -175,6 +175,8 @@ public class EXTDirectStateAccess {
         GL_TRANSPOSE_PROGRAM_MATRIX_EXT   = 0x8E2E,
         GL_PROGRAM_MATRIX_STACK_DEPTH_EXT = 0x8E2F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDirectStateAccess.class, "glMatrixLoadfEXT,glMatrixLoaddEXT,glMatrixMultfEXT,glMatrixMultdEXT,glTextureParameterivEXT,glTextureParameterfvEXT,glTextureImage1DEXT,glTextureImage2DEXT,glTextureSubImage1DEXT,glTextureSubImage2DEXT,glGetTextureImageEXT,glGetTextureParameterfvEXT,glGetTextureParameterivEXT,glGetTextureLevelParameterfvEXT,glGetTextureLevelParameterivEXT,glTextureImage3DEXT,glTextureSubImage3DEXT,glMultiTexCoordPointerEXT,glMultiTexEnvfvEXT,glMultiTexEnvivEXT,glMultiTexGendvEXT,glMultiTexGenfvEXT,glMultiTexGenivEXT,glGetMultiTexEnvfvEXT,glGetMultiTexEnvivEXT,glGetMultiTexGendvEXT,glGetMultiTexGenfvEXT,glGetMultiTexGenivEXT,glMultiTexParameterivEXT,glMultiTexParameterfvEXT,glMultiTexImage1DEXT,glMultiTexImage2DEXT,glMultiTexSubImage1DEXT,glMultiTexSubImage2DEXT,glGetMultiTexImageEXT,glGetMultiTexParameterfvEXT,glGetMultiTexParameterivEXT,glGetMultiTexLevelParameterfvEXT,glGetMultiTexLevelParameterivEXT,glMultiTexImage3DEXT,glMultiTexSubImage3DEXT,glGetFloatIndexedvEXT,glGetDoubleIndexedvEXT,glGetPointerIndexedvEXT,glGetFloati_vEXT,glGetDoublei_vEXT,glGetPointeri_vEXT,glNamedProgramStringEXT,glNamedProgramLocalParameter4dvEXT,glNamedProgramLocalParameter4fvEXT,glGetNamedProgramLocalParameterdvEXT,glGetNamedProgramLocalParameterfvEXT,glGetNamedProgramivEXT,glGetNamedProgramStringEXT,glCompressedTextureImage3DEXT,glCompressedTextureImage2DEXT,glCompressedTextureImage1DEXT,glCompressedTextureSubImage3DEXT,glCompressedTextureSubImage2DEXT,glCompressedTextureSubImage1DEXT,glGetCompressedTextureImageEXT,glCompressedMultiTexImage3DEXT,glCompressedMultiTexImage2DEXT,glCompressedMultiTexImage1DEXT,glCompressedMultiTexSubImage3DEXT,glCompressedMultiTexSubImage2DEXT,glCompressedMultiTexSubImage1DEXT,glGetCompressedMultiTexImageEXT,glMatrixLoadTransposefEXT,glMatrixLoadTransposedEXT,glMatrixMultTransposefEXT,glMatrixMultTransposedEXT,glNamedBufferDataEXT,glNamedBufferSubDataEXT,glMapNamedBufferEXT,glGetNamedBufferParameterivEXT,glGetNamedBufferSubDataEXT,glProgramUniform1fvEXT,glProgramUniform2fvEXT,glProgramUniform3fvEXT,glProgramUniform4fvEXT,glProgramUniform1ivEXT,glProgramUniform2ivEXT,glProgramUniform3ivEXT,glProgramUniform4ivEXT,glProgramUniformMatrix2fvEXT,glProgramUniformMatrix3fvEXT,glProgramUniformMatrix4fvEXT,glProgramUniformMatrix2x3fvEXT,glProgramUniformMatrix3x2fvEXT,glProgramUniformMatrix2x4fvEXT,glProgramUniformMatrix4x2fvEXT,glProgramUniformMatrix3x4fvEXT,glProgramUniformMatrix4x3fvEXT,glTextureParameterIivEXT,glTextureParameterIuivEXT,glGetTextureParameterIivEXT,glGetTextureParameterIuivEXT,glMultiTexParameterIivEXT,glMultiTexParameterIuivEXT,glGetMultiTexParameterIivEXT,glGetMultiTexParameterIuivEXT,glProgramUniform1uivEXT,glProgramUniform2uivEXT,glProgramUniform3uivEXT,glProgramUniform4uivEXT,glNamedProgramLocalParameters4fvEXT,glNamedProgramLocalParameterI4ivEXT,glNamedProgramLocalParametersI4ivEXT,glNamedProgramLocalParameterI4uivEXT,glNamedProgramLocalParametersI4uivEXT,glGetNamedProgramLocalParameterIivEXT,glGetNamedProgramLocalParameterIuivEXT,glGetNamedRenderbufferParameterivEXT,glGetNamedFramebufferAttachmentParameterivEXT,glFramebufferDrawBuffersEXT,glGetFramebufferParameterivEXT,glGetVertexArrayIntegervEXT,glGetVertexArrayPointervEXT,glGetVertexArrayIntegeri_vEXT,glGetVertexArrayPointeri_vEXT,glMapNamedBufferRangeEXT");
+
     static { GL.initialize(); }
 
     protected EXTDirectStateAccess() {
@@ -317,7 +319,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoadfEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMatrixLoaddEXT ] ---
@@ -328,7 +332,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoaddEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glMatrixMultfEXT ] ---
@@ -339,7 +345,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMultfEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMatrixMultdEXT ] ---
@@ -350,7 +358,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMultdEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glMatrixLoadIdentityEXT ] ---
@@ -409,7 +419,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterivEXT(texture, target, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glTextureParameterfEXT ] ---
@@ -424,7 +436,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterfvEXT(texture, target, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glTextureImage1DEXT ] ---
@@ -432,27 +446,39 @@ public class EXTDirectStateAccess {
     public static native void nglTextureImage1DEXT(int texture, int target, int level, int internalformat, int width, int border, int format, int type, long pixels);
 
     public static void glTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage1DEXT(texture, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void glTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage1DEXT(texture, target, level, internalformat, width, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void glTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage1DEXT(texture, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void glTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage1DEXT(texture, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void glTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage1DEXT(texture, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void glTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage1DEXT(texture, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glTextureImage2DEXT ] ---
@@ -460,27 +486,39 @@ public class EXTDirectStateAccess {
     public static native void nglTextureImage2DEXT(int texture, int target, int level, int internalformat, int width, int height, int border, int format, int type, long pixels);
 
     public static void glTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage2DEXT(texture, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     public static void glTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage2DEXT(texture, target, level, internalformat, width, height, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     public static void glTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage2DEXT(texture, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     public static void glTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage2DEXT(texture, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     public static void glTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage2DEXT(texture, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     public static void glTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage2DEXT(texture, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glTextureSubImage1DEXT ] ---
@@ -488,27 +526,39 @@ public class EXTDirectStateAccess {
     public static native void nglTextureSubImage1DEXT(int texture, int target, int level, int xoffset, int width, int format, int type, long pixels);
 
     public static void glTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1DEXT(texture, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     public static void glTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1DEXT(texture, target, level, xoffset, width, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     public static void glTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1DEXT(texture, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     public static void glTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1DEXT(texture, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     public static void glTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1DEXT(texture, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     public static void glTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1DEXT(texture, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glTextureSubImage2DEXT ] ---
@@ -516,27 +566,39 @@ public class EXTDirectStateAccess {
     public static native void nglTextureSubImage2DEXT(int texture, int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, long pixels);
 
     public static void glTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void glTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void glTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void glTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void glTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void glTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glCopyTextureImage1DEXT ] ---
@@ -560,27 +622,39 @@ public class EXTDirectStateAccess {
     public static native void nglGetTextureImageEXT(int texture, int target, int level, int format, int type, long pixels);
 
     public static void glGetTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImageEXT(texture, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void glGetTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImageEXT(texture, target, level, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void glGetTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImageEXT(texture, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void glGetTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImageEXT(texture, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void glGetTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImageEXT(texture, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void glGetTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImageEXT(texture, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glGetTextureParameterfvEXT ] ---
@@ -591,7 +665,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterfvEXT(texture, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     @NativeType("void")
@@ -599,7 +675,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterfvEXT(texture, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -614,7 +692,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterivEXT(texture, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     @NativeType("void")
@@ -622,7 +702,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterivEXT(texture, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -637,7 +719,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureLevelParameterfvEXT(texture, target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     @NativeType("void")
@@ -645,7 +729,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureLevelParameterfvEXT(texture, target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -660,7 +746,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureLevelParameterivEXT(texture, target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     @NativeType("void")
@@ -668,7 +756,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureLevelParameterivEXT(texture, target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -680,27 +770,39 @@ public class EXTDirectStateAccess {
     public static native void nglTextureImage3DEXT(int texture, int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, long pixels);
 
     public static void glTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     public static void glTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     public static void glTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     public static void glTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     public static void glTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     public static void glTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glTextureSubImage3DEXT ] ---
@@ -708,27 +810,39 @@ public class EXTDirectStateAccess {
     public static native void nglTextureSubImage3DEXT(int texture, int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, long pixels);
 
     public static void glTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     public static void glTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     public static void glTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     public static void glTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     public static void glTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     public static void glTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glCopyTextureSubImage3DEXT ] ---
@@ -744,23 +858,33 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexCoordPointerEXT(int texunit, int size, int type, int stride, long pointer);
 
     public static void glMultiTexCoordPointerEXT(@NativeType("GLenum") int texunit, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordPointerEXT(texunit, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     public static void glMultiTexCoordPointerEXT(@NativeType("GLenum") int texunit, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordPointerEXT(texunit, size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     public static void glMultiTexCoordPointerEXT(@NativeType("GLenum") int texunit, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordPointerEXT(texunit, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     public static void glMultiTexCoordPointerEXT(@NativeType("GLenum") int texunit, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordPointerEXT(texunit, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     public static void glMultiTexCoordPointerEXT(@NativeType("GLenum") int texunit, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordPointerEXT(texunit, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glMultiTexEnvfEXT ] ---
@@ -775,7 +899,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexEnvfvEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glMultiTexEnviEXT ] ---
@@ -790,7 +916,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexEnvivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glMultiTexGendEXT ] ---
@@ -805,7 +933,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexGendvEXT(texunit, coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glMultiTexGenfEXT ] ---
@@ -820,7 +950,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexGenfvEXT(texunit, coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glMultiTexGeniEXT ] ---
@@ -835,7 +967,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexGenivEXT(texunit, coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glGetMultiTexEnvfvEXT ] ---
@@ -846,7 +980,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexEnvfvEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     @NativeType("void")
@@ -854,7 +990,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexEnvfvEXT(texunit, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -869,7 +1007,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexEnvivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     @NativeType("void")
@@ -877,7 +1017,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexEnvivEXT(texunit, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -892,7 +1034,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexGendvEXT(texunit, coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     @NativeType("void")
@@ -900,7 +1044,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexGendvEXT(texunit, coord, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -915,7 +1061,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexGenfvEXT(texunit, coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     @NativeType("void")
@@ -923,7 +1071,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexGenfvEXT(texunit, coord, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 26, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -938,7 +1088,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexGenivEXT(texunit, coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     @NativeType("void")
@@ -946,7 +1098,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexGenivEXT(texunit, coord, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 27, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -965,7 +1119,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexParameterivEXT(texunit, target, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glMultiTexParameterfEXT ] ---
@@ -980,7 +1136,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexParameterfvEXT(texunit, target, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glMultiTexImage1DEXT ] ---
@@ -988,27 +1146,39 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexImage1DEXT(int texunit, int target, int level, int internalformat, int width, int border, int format, int type, long pixels);
 
     public static void glMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     public static void glMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     public static void glMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     public static void glMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     public static void glMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     public static void glMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glMultiTexImage2DEXT ] ---
@@ -1016,27 +1186,39 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexImage2DEXT(int texunit, int target, int level, int internalformat, int width, int height, int border, int format, int type, long pixels);
 
     public static void glMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     public static void glMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     public static void glMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     public static void glMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     public static void glMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     public static void glMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glMultiTexSubImage1DEXT ] ---
@@ -1044,27 +1226,39 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexSubImage1DEXT(int texunit, int target, int level, int xoffset, int width, int format, int type, long pixels);
 
     public static void glMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     public static void glMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     public static void glMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     public static void glMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     public static void glMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     public static void glMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glMultiTexSubImage2DEXT ] ---
@@ -1072,27 +1266,39 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexSubImage2DEXT(int texunit, int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, long pixels);
 
     public static void glMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     public static void glMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     public static void glMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     public static void glMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     public static void glMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     public static void glMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ glCopyMultiTexImage1DEXT ] ---
@@ -1116,27 +1322,39 @@ public class EXTDirectStateAccess {
     public static native void nglGetMultiTexImageEXT(int texunit, int target, int level, int format, int type, long pixels);
 
     public static void glGetMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetMultiTexImageEXT(texunit, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     public static void glGetMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetMultiTexImageEXT(texunit, target, level, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     public static void glGetMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetMultiTexImageEXT(texunit, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     public static void glGetMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetMultiTexImageEXT(texunit, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     public static void glGetMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetMultiTexImageEXT(texunit, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     public static void glGetMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetMultiTexImageEXT(texunit, target, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glGetMultiTexParameterfvEXT ] ---
@@ -1147,7 +1365,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexParameterfvEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     @NativeType("void")
@@ -1155,7 +1375,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexParameterfvEXT(texunit, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1170,7 +1392,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexParameterivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     @NativeType("void")
@@ -1178,7 +1402,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexParameterivEXT(texunit, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 36, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1193,7 +1419,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexLevelParameterfvEXT(texunit, target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     @NativeType("void")
@@ -1201,7 +1429,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexLevelParameterfvEXT(texunit, target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 37, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1216,7 +1446,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexLevelParameterivEXT(texunit, target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     @NativeType("void")
@@ -1224,7 +1456,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexLevelParameterivEXT(texunit, target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 38, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1236,27 +1470,39 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexImage3DEXT(int texunit, int target, int level, int internalformat, int width, int height, int depth, int border, int format, int type, long pixels);
 
     public static void glMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     public static void glMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     public static void glMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     public static void glMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     public static void glMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     public static void glMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glMultiTexSubImage3DEXT ] ---
@@ -1264,27 +1510,39 @@ public class EXTDirectStateAccess {
     public static native void nglMultiTexSubImage3DEXT(int texunit, int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, long pixels);
 
     public static void glMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     public static void glMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     public static void glMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     public static void glMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     public static void glMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     public static void glMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ glCopyMultiTexSubImage3DEXT ] ---
@@ -1315,7 +1573,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloatIndexedvEXT(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     @NativeType("void")
@@ -1323,7 +1583,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloatIndexedvEXT(target, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 41, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1338,7 +1600,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetDoubleIndexedvEXT(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     @NativeType("void")
@@ -1346,7 +1610,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetDoubleIndexedvEXT(target, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 42, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1361,7 +1627,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPointerIndexedvEXT(target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     @NativeType("void")
@@ -1369,7 +1637,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetPointerIndexedvEXT(target, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 43, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1384,7 +1654,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloati_vEXT(pname, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     @NativeType("void")
@@ -1392,7 +1664,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloati_vEXT(pname, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 44, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1407,7 +1681,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetDoublei_vEXT(pname, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     @NativeType("void")
@@ -1415,7 +1691,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetDoublei_vEXT(pname, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 45, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1430,7 +1708,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPointeri_vEXT(pname, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     @NativeType("void")
@@ -1438,7 +1718,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetPointeri_vEXT(pname, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 46, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1499,7 +1781,9 @@ public class EXTDirectStateAccess {
     public static native void nglNamedProgramStringEXT(int program, int target, int format, int len, long string);
 
     public static void glNamedProgramStringEXT(@NativeType("GLuint") int program, @NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer string) {
+        long __start = FunctionProfiler.start();
         nglNamedProgramStringEXT(program, target, format, string.remaining(), memAddress(string));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ glNamedProgramLocalParameter4dEXT ] ---
@@ -1514,7 +1798,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParameter4dvEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ glNamedProgramLocalParameter4fEXT ] ---
@@ -1529,7 +1815,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParameter4fvEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ glGetNamedProgramLocalParameterdvEXT ] ---
@@ -1540,7 +1828,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedProgramLocalParameterdvEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ glGetNamedProgramLocalParameterfvEXT ] ---
@@ -1551,7 +1841,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedProgramLocalParameterfvEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ glGetNamedProgramivEXT ] ---
@@ -1562,7 +1854,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedProgramivEXT(program, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     @NativeType("void")
@@ -1570,7 +1864,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedProgramivEXT(program, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 52, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1587,7 +1883,9 @@ public class EXTDirectStateAccess {
                 check(string, glGetNamedProgramiEXT(program, target, ARBVertexProgram.GL_PROGRAM_LENGTH_ARB));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedProgramStringEXT(program, target, pname, memAddress(string));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ glCompressedTextureImage3DEXT ] ---
@@ -1595,11 +1893,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedTextureImage3DEXT(int texture, int target, int level, int internalformat, int width, int height, int depth, int border, int imageSize, long data);
 
     public static void glCompressedTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     public static void glCompressedTextureImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureImage3DEXT(texture, target, level, internalformat, width, height, depth, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ glCompressedTextureImage2DEXT ] ---
@@ -1607,11 +1909,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedTextureImage2DEXT(int texture, int target, int level, int internalformat, int width, int height, int border, int imageSize, long data);
 
     public static void glCompressedTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureImage2DEXT(texture, target, level, internalformat, width, height, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     public static void glCompressedTextureImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureImage2DEXT(texture, target, level, internalformat, width, height, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ glCompressedTextureImage1DEXT ] ---
@@ -1619,11 +1925,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedTextureImage1DEXT(int texture, int target, int level, int internalformat, int width, int border, int imageSize, long data);
 
     public static void glCompressedTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureImage1DEXT(texture, target, level, internalformat, width, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     public static void glCompressedTextureImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureImage1DEXT(texture, target, level, internalformat, width, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ glCompressedTextureSubImage3DEXT ] ---
@@ -1631,11 +1941,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedTextureSubImage3DEXT(int texture, int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int imageSize, long data);
 
     public static void glCompressedTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     public static void glCompressedTextureSubImage3DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage3DEXT(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ glCompressedTextureSubImage2DEXT ] ---
@@ -1643,11 +1957,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedTextureSubImage2DEXT(int texture, int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, long data);
 
     public static void glCompressedTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     public static void glCompressedTextureSubImage2DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage2DEXT(texture, target, level, xoffset, yoffset, width, height, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     // --- [ glCompressedTextureSubImage1DEXT ] ---
@@ -1655,11 +1973,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedTextureSubImage1DEXT(int texture, int target, int level, int xoffset, int width, int format, int imageSize, long data);
 
     public static void glCompressedTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage1DEXT(texture, target, level, xoffset, width, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     public static void glCompressedTextureSubImage1DEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage1DEXT(texture, target, level, xoffset, width, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     // --- [ glGetCompressedTextureImageEXT ] ---
@@ -1672,11 +1994,15 @@ public class EXTDirectStateAccess {
                 check(img, glGetTextureLevelParameteriEXT(texture, target, level, GL13.GL_TEXTURE_COMPRESSED_IMAGE_SIZE));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureImageEXT(texture, target, level, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     public static void glGetCompressedTextureImageEXT(@NativeType("GLuint") int texture, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("void *") long img) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureImageEXT(texture, target, level, img);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ glCompressedMultiTexImage3DEXT ] ---
@@ -1684,11 +2010,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedMultiTexImage3DEXT(int texunit, int target, int level, int internalformat, int width, int height, int depth, int border, int imageSize, long data);
 
     public static void glCompressedMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     public static void glCompressedMultiTexImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexImage3DEXT(texunit, target, level, internalformat, width, height, depth, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ glCompressedMultiTexImage2DEXT ] ---
@@ -1696,11 +2026,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedMultiTexImage2DEXT(int texunit, int target, int level, int internalformat, int width, int height, int border, int imageSize, long data);
 
     public static void glCompressedMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     public static void glCompressedMultiTexImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexImage2DEXT(texunit, target, level, internalformat, width, height, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     // --- [ glCompressedMultiTexImage1DEXT ] ---
@@ -1708,11 +2042,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedMultiTexImage1DEXT(int texunit, int target, int level, int internalformat, int width, int border, int imageSize, long data);
 
     public static void glCompressedMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     public static void glCompressedMultiTexImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexImage1DEXT(texunit, target, level, internalformat, width, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ glCompressedMultiTexSubImage3DEXT ] ---
@@ -1720,11 +2058,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedMultiTexSubImage3DEXT(int texunit, int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int imageSize, long data);
 
     public static void glCompressedMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     public static void glCompressedMultiTexSubImage3DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexSubImage3DEXT(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ glCompressedMultiTexSubImage2DEXT ] ---
@@ -1732,11 +2074,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedMultiTexSubImage2DEXT(int texunit, int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, long data);
 
     public static void glCompressedMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     public static void glCompressedMultiTexSubImage2DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexSubImage2DEXT(texunit, target, level, xoffset, yoffset, width, height, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ glCompressedMultiTexSubImage1DEXT ] ---
@@ -1744,11 +2090,15 @@ public class EXTDirectStateAccess {
     public static native void nglCompressedMultiTexSubImage1DEXT(int texunit, int target, int level, int xoffset, int width, int format, int imageSize, long data);
 
     public static void glCompressedMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     public static void glCompressedMultiTexSubImage1DEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedMultiTexSubImage1DEXT(texunit, target, level, xoffset, width, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     // --- [ glGetCompressedMultiTexImageEXT ] ---
@@ -1761,11 +2111,15 @@ public class EXTDirectStateAccess {
                 check(img, glGetMultiTexLevelParameteriEXT(texunit, target, level, GL13.GL_TEXTURE_COMPRESSED_IMAGE_SIZE));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetCompressedMultiTexImageEXT(texunit, target, level, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     public static void glGetCompressedMultiTexImageEXT(@NativeType("GLenum") int texunit, @NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("void *") long img) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedMultiTexImageEXT(texunit, target, level, img);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ glMatrixLoadTransposefEXT ] ---
@@ -1776,7 +2130,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoadTransposefEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     // --- [ glMatrixLoadTransposedEXT ] ---
@@ -1787,7 +2143,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoadTransposedEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     // --- [ glMatrixMultTransposefEXT ] ---
@@ -1798,7 +2156,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMultTransposefEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     // --- [ glMatrixMultTransposedEXT ] ---
@@ -1809,7 +2169,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMultTransposedEXT(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     // --- [ glNamedBufferDataEXT ] ---
@@ -1817,27 +2179,39 @@ public class EXTDirectStateAccess {
     public static native void nglNamedBufferDataEXT(int buffer, long size, long data, int usage);
 
     public static void glNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferDataEXT(buffer, size, NULL, usage);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     public static void glNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") ByteBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferDataEXT(buffer, data.remaining(), memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     public static void glNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") ShortBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferDataEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     public static void glNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") IntBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferDataEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     public static void glNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") FloatBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferDataEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     public static void glNamedBufferDataEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") DoubleBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferDataEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     // --- [ glNamedBufferSubDataEXT ] ---
@@ -1845,23 +2219,33 @@ public class EXTDirectStateAccess {
     public static native void nglNamedBufferSubDataEXT(int buffer, long offset, long size, long data);
 
     public static void glNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubDataEXT(buffer, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     public static void glNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     public static void glNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     public static void glNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     public static void glNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     // --- [ glMapNamedBufferEXT ] ---
@@ -1871,14 +2255,16 @@ public class EXTDirectStateAccess {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int access) {
-        long __result = nglMapNamedBufferEXT(buffer, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 74, __start, nglMapNamedBufferEXT(buffer, access));
         return memByteBufferSafe(__result, glGetNamedBufferParameteriEXT(buffer, GL15.GL_BUFFER_SIZE));
     }
 
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapNamedBufferEXT(buffer, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 74, __start, nglMapNamedBufferEXT(buffer, access));
         int length = glGetNamedBufferParameteriEXT(buffer, GL15.GL_BUFFER_SIZE);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -1886,7 +2272,8 @@ public class EXTDirectStateAccess {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferEXT(@NativeType("GLuint") int buffer, @NativeType("GLenum") int access, long length, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapNamedBufferEXT(buffer, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 74, __start, nglMapNamedBufferEXT(buffer, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -1903,7 +2290,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferParameterivEXT(buffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     @NativeType("void")
@@ -1911,7 +2300,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedBufferParameterivEXT(buffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 75, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1923,23 +2314,33 @@ public class EXTDirectStateAccess {
     public static native void nglGetNamedBufferSubDataEXT(int buffer, long offset, long size, long data);
 
     public static void glGetNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubDataEXT(buffer, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     public static void glGetNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     public static void glGetNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     public static void glGetNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     public static void glGetNamedBufferSubDataEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubDataEXT(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     // --- [ glProgramUniform1fEXT ] ---
@@ -1979,7 +2380,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform1fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform1fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1fvEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     // --- [ glProgramUniform2fvEXT ] ---
@@ -1987,7 +2390,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform2fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2fvEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     // --- [ glProgramUniform3fvEXT ] ---
@@ -1995,7 +2400,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform3fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3fvEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     // --- [ glProgramUniform4fvEXT ] ---
@@ -2003,7 +2410,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform4fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4fvEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     // --- [ glProgramUniform1ivEXT ] ---
@@ -2011,7 +2420,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform1ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform1ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1ivEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     // --- [ glProgramUniform2ivEXT ] ---
@@ -2019,7 +2430,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform2ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform2ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2ivEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
     }
 
     // --- [ glProgramUniform3ivEXT ] ---
@@ -2027,7 +2440,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform3ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform3ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3ivEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     // --- [ glProgramUniform4ivEXT ] ---
@@ -2035,7 +2450,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform4ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform4ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4ivEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     // --- [ glProgramUniformMatrix2fvEXT ] ---
@@ -2043,7 +2460,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix2fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2fvEXT(program, location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     // --- [ glProgramUniformMatrix3fvEXT ] ---
@@ -2051,7 +2470,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix3fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3fvEXT(program, location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     // --- [ glProgramUniformMatrix4fvEXT ] ---
@@ -2059,7 +2480,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix4fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4fvEXT(program, location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     // --- [ glProgramUniformMatrix2x3fvEXT ] ---
@@ -2067,7 +2490,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix2x3fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix2x3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x3fvEXT(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     // --- [ glProgramUniformMatrix3x2fvEXT ] ---
@@ -2075,7 +2500,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix3x2fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix3x2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x2fvEXT(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
     }
 
     // --- [ glProgramUniformMatrix2x4fvEXT ] ---
@@ -2083,7 +2510,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix2x4fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix2x4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x4fvEXT(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     // --- [ glProgramUniformMatrix4x2fvEXT ] ---
@@ -2091,7 +2520,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix4x2fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix4x2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x2fvEXT(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     // --- [ glProgramUniformMatrix3x4fvEXT ] ---
@@ -2099,7 +2530,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix3x4fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix3x4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x4fvEXT(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     // --- [ glProgramUniformMatrix4x3fvEXT ] ---
@@ -2107,7 +2540,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniformMatrix4x3fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix4x3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x3fvEXT(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     // --- [ glTextureBufferEXT ] ---
@@ -2126,7 +2561,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterIivEXT(texture, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     // --- [ glTextureParameterIuivEXT ] ---
@@ -2137,7 +2574,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterIuivEXT(texture, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     // --- [ glGetTextureParameterIivEXT ] ---
@@ -2148,7 +2587,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterIivEXT(texture, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     @NativeType("void")
@@ -2156,7 +2597,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterIivEXT(texture, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 96, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2171,7 +2614,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterIuivEXT(texture, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     @NativeType("void")
@@ -2179,7 +2624,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterIuivEXT(texture, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 97, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2194,7 +2641,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexParameterIivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     // --- [ glMultiTexParameterIuivEXT ] ---
@@ -2205,7 +2654,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexParameterIuivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     // --- [ glGetMultiTexParameterIivEXT ] ---
@@ -2216,7 +2667,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexParameterIivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     @NativeType("void")
@@ -2224,7 +2677,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexParameterIivEXT(texunit, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 100, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2239,7 +2694,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultiTexParameterIuivEXT(texunit, target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     @NativeType("void")
@@ -2247,7 +2704,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMultiTexParameterIuivEXT(texunit, target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 101, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2275,7 +2734,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform1uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform1uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1uivEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     // --- [ glProgramUniform2uivEXT ] ---
@@ -2283,7 +2744,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform2uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform2uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2uivEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     // --- [ glProgramUniform3uivEXT ] ---
@@ -2291,7 +2754,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform3uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform3uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3uivEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 104, __start);
     }
 
     // --- [ glProgramUniform4uivEXT ] ---
@@ -2299,7 +2764,9 @@ public class EXTDirectStateAccess {
     public static native void nglProgramUniform4uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform4uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4uivEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     // --- [ glNamedProgramLocalParameters4fvEXT ] ---
@@ -2307,7 +2774,9 @@ public class EXTDirectStateAccess {
     public static native void nglNamedProgramLocalParameters4fvEXT(int program, int target, int index, int count, long params);
 
     public static void glNamedProgramLocalParameters4fvEXT(@NativeType("GLuint") int program, @NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParameters4fvEXT(program, target, index, params.remaining() >> 2, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     // --- [ glNamedProgramLocalParameterI4iEXT ] ---
@@ -2322,7 +2791,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParameterI4ivEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     // --- [ glNamedProgramLocalParametersI4ivEXT ] ---
@@ -2330,7 +2801,9 @@ public class EXTDirectStateAccess {
     public static native void nglNamedProgramLocalParametersI4ivEXT(int program, int target, int index, int count, long params);
 
     public static void glNamedProgramLocalParametersI4ivEXT(@NativeType("GLuint") int program, @NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLint const *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParametersI4ivEXT(program, target, index, params.remaining() >> 2, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     // --- [ glNamedProgramLocalParameterI4uiEXT ] ---
@@ -2345,7 +2818,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParameterI4uivEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     // --- [ glNamedProgramLocalParametersI4uivEXT ] ---
@@ -2353,7 +2828,9 @@ public class EXTDirectStateAccess {
     public static native void nglNamedProgramLocalParametersI4uivEXT(int program, int target, int index, int count, long params);
 
     public static void glNamedProgramLocalParametersI4uivEXT(@NativeType("GLuint") int program, @NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLuint const *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglNamedProgramLocalParametersI4uivEXT(program, target, index, params.remaining() >> 2, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     // --- [ glGetNamedProgramLocalParameterIivEXT ] ---
@@ -2364,7 +2841,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedProgramLocalParameterIivEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     // --- [ glGetNamedProgramLocalParameterIuivEXT ] ---
@@ -2375,7 +2854,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedProgramLocalParameterIuivEXT(program, target, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     // --- [ glNamedRenderbufferStorageEXT ] ---
@@ -2390,7 +2871,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedRenderbufferParameterivEXT(renderbuffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     @NativeType("void")
@@ -2398,7 +2881,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedRenderbufferParameterivEXT(renderbuffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 113, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2442,7 +2927,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedFramebufferAttachmentParameterivEXT(framebuffer, attachment, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     @NativeType("void")
@@ -2450,7 +2937,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedFramebufferAttachmentParameterivEXT(framebuffer, attachment, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 114, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2474,7 +2963,9 @@ public class EXTDirectStateAccess {
     public static native void nglFramebufferDrawBuffersEXT(int framebuffer, int n, long bufs);
 
     public static void glFramebufferDrawBuffersEXT(@NativeType("GLuint") int framebuffer, @NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglFramebufferDrawBuffersEXT(framebuffer, bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     // --- [ glFramebufferReadBufferEXT ] ---
@@ -2489,7 +2980,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFramebufferParameterivEXT(framebuffer, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     @NativeType("void")
@@ -2497,7 +2990,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFramebufferParameterivEXT(framebuffer, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 116, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2596,7 +3091,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayIntegervEXT(vaobj, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     @NativeType("void")
@@ -2604,7 +3101,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayIntegervEXT(vaobj, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 117, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2619,7 +3118,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayPointervEXT(vaobj, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     @NativeType("void")
@@ -2627,7 +3128,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer param = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayPointervEXT(vaobj, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 118, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2642,7 +3145,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayIntegeri_vEXT(vaobj, index, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     @NativeType("void")
@@ -2650,7 +3155,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayIntegeri_vEXT(vaobj, index, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 119, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2665,7 +3172,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayPointeri_vEXT(vaobj, index, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     @NativeType("void")
@@ -2673,7 +3182,9 @@ public class EXTDirectStateAccess {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer param = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayPointeri_vEXT(vaobj, index, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 120, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2687,14 +3198,16 @@ public class EXTDirectStateAccess {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferRangeEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access) {
-        long __result = nglMapNamedBufferRangeEXT(buffer, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 121, __start, nglMapNamedBufferRangeEXT(buffer, offset, length, access));
         return memByteBufferSafe(__result, (int)length);
     }
 
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferRangeEXT(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapNamedBufferRangeEXT(buffer, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 121, __start, nglMapNamedBufferRangeEXT(buffer, offset, length, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -2709,7 +3222,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMatrixLoaddEXT MatrixLoaddEXT} */
@@ -2719,7 +3234,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMatrixMultfEXT MatrixMultfEXT} */
@@ -2729,7 +3246,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glMatrixMultdEXT MatrixMultdEXT} */
@@ -2739,7 +3258,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glTextureParameterivEXT TextureParameterivEXT} */
@@ -2749,7 +3270,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glTextureParameterfvEXT TextureParameterfvEXT} */
@@ -2759,7 +3282,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glTextureImage1DEXT TextureImage1DEXT} */
@@ -2768,7 +3293,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glTextureImage1DEXT TextureImage1DEXT} */
@@ -2777,7 +3304,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glTextureImage1DEXT TextureImage1DEXT} */
@@ -2786,7 +3315,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glTextureImage1DEXT TextureImage1DEXT} */
@@ -2795,7 +3326,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glTextureImage2DEXT TextureImage2DEXT} */
@@ -2804,7 +3337,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glTextureImage2DEXT TextureImage2DEXT} */
@@ -2813,7 +3348,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glTextureImage2DEXT TextureImage2DEXT} */
@@ -2822,7 +3359,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glTextureImage2DEXT TextureImage2DEXT} */
@@ -2831,7 +3370,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage1DEXT TextureSubImage1DEXT} */
@@ -2840,7 +3381,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage1DEXT TextureSubImage1DEXT} */
@@ -2849,7 +3392,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage1DEXT TextureSubImage1DEXT} */
@@ -2858,7 +3403,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage1DEXT TextureSubImage1DEXT} */
@@ -2867,7 +3414,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage2DEXT TextureSubImage2DEXT} */
@@ -2876,7 +3425,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage2DEXT TextureSubImage2DEXT} */
@@ -2885,7 +3436,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage2DEXT TextureSubImage2DEXT} */
@@ -2894,7 +3447,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage2DEXT TextureSubImage2DEXT} */
@@ -2903,7 +3458,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glGetTextureImageEXT GetTextureImageEXT} */
@@ -2912,7 +3469,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glGetTextureImageEXT GetTextureImageEXT} */
@@ -2921,7 +3480,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glGetTextureImageEXT GetTextureImageEXT} */
@@ -2930,7 +3491,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glGetTextureImageEXT GetTextureImageEXT} */
@@ -2939,7 +3502,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glGetTextureParameterfvEXT GetTextureParameterfvEXT} */
@@ -2949,7 +3514,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glGetTextureParameterivEXT GetTextureParameterivEXT} */
@@ -2959,7 +3526,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glGetTextureLevelParameterfvEXT GetTextureLevelParameterfvEXT} */
@@ -2969,7 +3538,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glGetTextureLevelParameterivEXT GetTextureLevelParameterivEXT} */
@@ -2979,7 +3550,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glTextureImage3DEXT TextureImage3DEXT} */
@@ -2988,7 +3561,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glTextureImage3DEXT TextureImage3DEXT} */
@@ -2997,7 +3572,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glTextureImage3DEXT TextureImage3DEXT} */
@@ -3006,7 +3583,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glTextureImage3DEXT TextureImage3DEXT} */
@@ -3015,7 +3594,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage3DEXT TextureSubImage3DEXT} */
@@ -3024,7 +3605,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage3DEXT TextureSubImage3DEXT} */
@@ -3033,7 +3616,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage3DEXT TextureSubImage3DEXT} */
@@ -3042,7 +3627,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glTextureSubImage3DEXT TextureSubImage3DEXT} */
@@ -3051,7 +3638,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoordPointerEXT MultiTexCoordPointerEXT} */
@@ -3060,7 +3649,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoordPointerEXT MultiTexCoordPointerEXT} */
@@ -3069,7 +3660,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoordPointerEXT MultiTexCoordPointerEXT} */
@@ -3078,7 +3671,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glMultiTexEnvfvEXT MultiTexEnvfvEXT} */
@@ -3088,7 +3683,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glMultiTexEnvivEXT MultiTexEnvivEXT} */
@@ -3098,7 +3695,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glMultiTexGendvEXT MultiTexGendvEXT} */
@@ -3108,7 +3707,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #glMultiTexGenfvEXT MultiTexGenfvEXT} */
@@ -3118,7 +3719,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glMultiTexGenivEXT MultiTexGenivEXT} */
@@ -3128,7 +3731,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexEnvfvEXT GetMultiTexEnvfvEXT} */
@@ -3138,7 +3743,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexEnvivEXT GetMultiTexEnvivEXT} */
@@ -3148,7 +3755,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexGendvEXT GetMultiTexGendvEXT} */
@@ -3158,7 +3767,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexGenfvEXT GetMultiTexGenfvEXT} */
@@ -3168,7 +3779,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexGenivEXT GetMultiTexGenivEXT} */
@@ -3178,7 +3791,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** Array version of: {@link #glMultiTexParameterivEXT MultiTexParameterivEXT} */
@@ -3188,7 +3803,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /** Array version of: {@link #glMultiTexParameterfvEXT MultiTexParameterfvEXT} */
@@ -3198,7 +3815,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage1DEXT MultiTexImage1DEXT} */
@@ -3207,7 +3826,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage1DEXT MultiTexImage1DEXT} */
@@ -3216,7 +3837,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage1DEXT MultiTexImage1DEXT} */
@@ -3225,7 +3848,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage1DEXT MultiTexImage1DEXT} */
@@ -3234,7 +3859,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage2DEXT MultiTexImage2DEXT} */
@@ -3243,7 +3870,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage2DEXT MultiTexImage2DEXT} */
@@ -3252,7 +3881,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage2DEXT MultiTexImage2DEXT} */
@@ -3261,7 +3892,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage2DEXT MultiTexImage2DEXT} */
@@ -3270,7 +3903,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage1DEXT MultiTexSubImage1DEXT} */
@@ -3279,7 +3914,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage1DEXT MultiTexSubImage1DEXT} */
@@ -3288,7 +3925,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage1DEXT MultiTexSubImage1DEXT} */
@@ -3297,7 +3936,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage1DEXT MultiTexSubImage1DEXT} */
@@ -3306,7 +3947,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage2DEXT MultiTexSubImage2DEXT} */
@@ -3315,7 +3958,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage2DEXT MultiTexSubImage2DEXT} */
@@ -3324,7 +3969,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage2DEXT MultiTexSubImage2DEXT} */
@@ -3333,7 +3980,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage2DEXT MultiTexSubImage2DEXT} */
@@ -3342,7 +3991,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexImageEXT GetMultiTexImageEXT} */
@@ -3351,7 +4002,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexImageEXT GetMultiTexImageEXT} */
@@ -3360,7 +4013,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexImageEXT GetMultiTexImageEXT} */
@@ -3369,7 +4024,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexImageEXT GetMultiTexImageEXT} */
@@ -3378,7 +4035,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexParameterfvEXT GetMultiTexParameterfvEXT} */
@@ -3388,7 +4047,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexParameterivEXT GetMultiTexParameterivEXT} */
@@ -3398,7 +4059,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexLevelParameterfvEXT GetMultiTexLevelParameterfvEXT} */
@@ -3408,7 +4071,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexLevelParameterivEXT GetMultiTexLevelParameterivEXT} */
@@ -3418,7 +4083,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage3DEXT MultiTexImage3DEXT} */
@@ -3427,7 +4094,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage3DEXT MultiTexImage3DEXT} */
@@ -3436,7 +4105,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage3DEXT MultiTexImage3DEXT} */
@@ -3445,7 +4116,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #glMultiTexImage3DEXT MultiTexImage3DEXT} */
@@ -3454,7 +4127,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage3DEXT MultiTexSubImage3DEXT} */
@@ -3463,7 +4138,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage3DEXT MultiTexSubImage3DEXT} */
@@ -3472,7 +4149,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage3DEXT MultiTexSubImage3DEXT} */
@@ -3481,7 +4160,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /** Array version of: {@link #glMultiTexSubImage3DEXT MultiTexSubImage3DEXT} */
@@ -3490,7 +4171,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /** Array version of: {@link #glGetFloatIndexedvEXT GetFloatIndexedvEXT} */
@@ -3500,7 +4183,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /** Array version of: {@link #glGetDoubleIndexedvEXT GetDoubleIndexedvEXT} */
@@ -3510,7 +4195,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** Array version of: {@link #glGetFloati_vEXT GetFloati_vEXT} */
@@ -3520,7 +4207,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /** Array version of: {@link #glGetDoublei_vEXT GetDoublei_vEXT} */
@@ -3530,7 +4219,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** Array version of: {@link #glGetIntegerIndexedvEXT GetIntegerIndexedvEXT} */
@@ -3545,7 +4236,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /** Array version of: {@link #glNamedProgramLocalParameter4fvEXT NamedProgramLocalParameter4fvEXT} */
@@ -3555,7 +4248,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /** Array version of: {@link #glGetNamedProgramLocalParameterdvEXT GetNamedProgramLocalParameterdvEXT} */
@@ -3565,7 +4260,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /** Array version of: {@link #glGetNamedProgramLocalParameterfvEXT GetNamedProgramLocalParameterfvEXT} */
@@ -3575,7 +4272,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /** Array version of: {@link #glGetNamedProgramivEXT GetNamedProgramivEXT} */
@@ -3585,7 +4284,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /** Array version of: {@link #glMatrixLoadTransposefEXT MatrixLoadTransposefEXT} */
@@ -3595,7 +4296,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     /** Array version of: {@link #glMatrixLoadTransposedEXT MatrixLoadTransposedEXT} */
@@ -3605,7 +4308,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     /** Array version of: {@link #glMatrixMultTransposefEXT MatrixMultTransposefEXT} */
@@ -3615,7 +4320,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     /** Array version of: {@link #glMatrixMultTransposedEXT MatrixMultTransposedEXT} */
@@ -3625,7 +4332,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     /** Array version of: {@link #glNamedBufferDataEXT NamedBufferDataEXT} */
@@ -3634,7 +4343,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 1, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     /** Array version of: {@link #glNamedBufferDataEXT NamedBufferDataEXT} */
@@ -3643,7 +4354,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     /** Array version of: {@link #glNamedBufferDataEXT NamedBufferDataEXT} */
@@ -3652,7 +4365,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     /** Array version of: {@link #glNamedBufferDataEXT NamedBufferDataEXT} */
@@ -3661,7 +4376,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 3, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     /** Array version of: {@link #glNamedBufferSubDataEXT NamedBufferSubDataEXT} */
@@ -3670,7 +4387,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /** Array version of: {@link #glNamedBufferSubDataEXT NamedBufferSubDataEXT} */
@@ -3679,7 +4398,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /** Array version of: {@link #glNamedBufferSubDataEXT NamedBufferSubDataEXT} */
@@ -3688,7 +4409,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /** Array version of: {@link #glNamedBufferSubDataEXT NamedBufferSubDataEXT} */
@@ -3697,7 +4420,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /** Array version of: {@link #glGetNamedBufferParameterivEXT GetNamedBufferParameterivEXT} */
@@ -3707,7 +4432,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /** Array version of: {@link #glGetNamedBufferSubDataEXT GetNamedBufferSubDataEXT} */
@@ -3716,7 +4443,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /** Array version of: {@link #glGetNamedBufferSubDataEXT GetNamedBufferSubDataEXT} */
@@ -3725,7 +4454,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /** Array version of: {@link #glGetNamedBufferSubDataEXT GetNamedBufferSubDataEXT} */
@@ -3734,7 +4465,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /** Array version of: {@link #glGetNamedBufferSubDataEXT GetNamedBufferSubDataEXT} */
@@ -3743,7 +4476,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1fvEXT ProgramUniform1fvEXT} */
@@ -3752,7 +4487,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2fvEXT ProgramUniform2fvEXT} */
@@ -3761,7 +4498,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3fvEXT ProgramUniform3fvEXT} */
@@ -3770,7 +4509,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4fvEXT ProgramUniform4fvEXT} */
@@ -3779,7 +4520,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1ivEXT ProgramUniform1ivEXT} */
@@ -3788,7 +4531,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2ivEXT ProgramUniform2ivEXT} */
@@ -3797,7 +4542,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3ivEXT ProgramUniform3ivEXT} */
@@ -3806,7 +4553,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4ivEXT ProgramUniform4ivEXT} */
@@ -3815,7 +4564,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2fvEXT ProgramUniformMatrix2fvEXT} */
@@ -3824,7 +4575,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3fvEXT ProgramUniformMatrix3fvEXT} */
@@ -3833,7 +4586,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4fvEXT ProgramUniformMatrix4fvEXT} */
@@ -3842,7 +4597,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2x3fvEXT ProgramUniformMatrix2x3fvEXT} */
@@ -3851,7 +4608,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3x2fvEXT ProgramUniformMatrix3x2fvEXT} */
@@ -3860,7 +4619,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2x4fvEXT ProgramUniformMatrix2x4fvEXT} */
@@ -3869,7 +4630,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4x2fvEXT ProgramUniformMatrix4x2fvEXT} */
@@ -3878,7 +4641,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3x4fvEXT ProgramUniformMatrix3x4fvEXT} */
@@ -3887,7 +4652,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4x3fvEXT ProgramUniformMatrix4x3fvEXT} */
@@ -3896,7 +4663,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     /** Array version of: {@link #glTextureParameterIivEXT TextureParameterIivEXT} */
@@ -3906,7 +4675,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     /** Array version of: {@link #glTextureParameterIuivEXT TextureParameterIuivEXT} */
@@ -3916,7 +4687,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     /** Array version of: {@link #glGetTextureParameterIivEXT GetTextureParameterIivEXT} */
@@ -3926,7 +4699,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     /** Array version of: {@link #glGetTextureParameterIuivEXT GetTextureParameterIuivEXT} */
@@ -3936,7 +4711,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     /** Array version of: {@link #glMultiTexParameterIivEXT MultiTexParameterIivEXT} */
@@ -3946,7 +4723,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     /** Array version of: {@link #glMultiTexParameterIuivEXT MultiTexParameterIuivEXT} */
@@ -3956,7 +4735,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexParameterIivEXT GetMultiTexParameterIivEXT} */
@@ -3966,7 +4747,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     /** Array version of: {@link #glGetMultiTexParameterIuivEXT GetMultiTexParameterIuivEXT} */
@@ -3976,7 +4759,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texunit, target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1uivEXT ProgramUniform1uivEXT} */
@@ -3985,7 +4770,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2uivEXT ProgramUniform2uivEXT} */
@@ -3994,7 +4781,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3uivEXT ProgramUniform3uivEXT} */
@@ -4003,7 +4792,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 104, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4uivEXT ProgramUniform4uivEXT} */
@@ -4012,7 +4803,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     /** Array version of: {@link #glNamedProgramLocalParameters4fvEXT NamedProgramLocalParameters4fvEXT} */
@@ -4021,7 +4814,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params.length >> 2, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     /** Array version of: {@link #glNamedProgramLocalParameterI4ivEXT NamedProgramLocalParameterI4ivEXT} */
@@ -4031,7 +4826,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     /** Array version of: {@link #glNamedProgramLocalParametersI4ivEXT NamedProgramLocalParametersI4ivEXT} */
@@ -4040,7 +4837,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params.length >> 2, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     /** Array version of: {@link #glNamedProgramLocalParameterI4uivEXT NamedProgramLocalParameterI4uivEXT} */
@@ -4050,7 +4849,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     /** Array version of: {@link #glNamedProgramLocalParametersI4uivEXT NamedProgramLocalParametersI4uivEXT} */
@@ -4059,7 +4860,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params.length >> 2, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     /** Array version of: {@link #glGetNamedProgramLocalParameterIivEXT GetNamedProgramLocalParameterIivEXT} */
@@ -4069,7 +4872,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     /** Array version of: {@link #glGetNamedProgramLocalParameterIuivEXT GetNamedProgramLocalParameterIuivEXT} */
@@ -4079,7 +4884,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, target, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     /** Array version of: {@link #glGetNamedRenderbufferParameterivEXT GetNamedRenderbufferParameterivEXT} */
@@ -4089,7 +4896,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /** Array version of: {@link #glGetNamedFramebufferAttachmentParameterivEXT GetNamedFramebufferAttachmentParameterivEXT} */
@@ -4099,7 +4908,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, attachment, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     /** Array version of: {@link #glFramebufferDrawBuffersEXT FramebufferDrawBuffersEXT} */
@@ -4108,7 +4919,9 @@ public class EXTDirectStateAccess {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /** Array version of: {@link #glGetFramebufferParameterivEXT GetFramebufferParameterivEXT} */
@@ -4118,7 +4931,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     /** Array version of: {@link #glGetVertexArrayIntegervEXT GetVertexArrayIntegervEXT} */
@@ -4128,7 +4943,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(vaobj, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /** Array version of: {@link #glGetVertexArrayIntegeri_vEXT GetVertexArrayIntegeri_vEXT} */
@@ -4138,7 +4955,9 @@ public class EXTDirectStateAccess {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(vaobj, index, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
 }
\ No newline at end of file
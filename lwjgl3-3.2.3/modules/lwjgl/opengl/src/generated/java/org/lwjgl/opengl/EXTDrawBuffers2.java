@@ -27,6 +27,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTDrawBuffers2 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDrawBuffers2.class, "glGetBooleanIndexedvEXT,glGetIntegerIndexedvEXT");
+
     static { GL.initialize(); }
 
     protected EXTDrawBuffers2() {
@@ -52,7 +54,9 @@ public class EXTDrawBuffers2 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBooleanIndexedvEXT(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -60,7 +64,9 @@ public class EXTDrawBuffers2 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             ByteBuffer data = stack.calloc(1);
+            long __start = FunctionProfiler.start();
             nglGetBooleanIndexedvEXT(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return data.get(0) != 0;
         } finally {
             stack.setPointer(stackPointer);
@@ -75,7 +81,9 @@ public class EXTDrawBuffers2 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegerIndexedvEXT(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -83,7 +91,9 @@ public class EXTDrawBuffers2 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegerIndexedvEXT(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -110,7 +120,9 @@ public class EXTDrawBuffers2 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
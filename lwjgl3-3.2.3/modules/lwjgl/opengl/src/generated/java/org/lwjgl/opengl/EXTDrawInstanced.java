@@ -22,6 +22,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTDrawInstanced {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDrawInstanced.class, "glDrawElementsInstancedEXT");
+
     static { GL.initialize(); }
 
     protected EXTDrawInstanced() {
@@ -43,23 +45,33 @@ public class EXTDrawInstanced {
     public static native void nglDrawElementsInstancedEXT(int mode, int count, int type, long indices, int primcount);
 
     public static void glDrawElementsInstancedEXT(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedEXT(mode, count, type, indices, primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedEXT(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedEXT(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedEXT(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedEXT(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedEXT(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedEXT(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedEXT(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedEXT(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -141,6 +141,8 @@ public class EXTFramebufferObject {
     /** Returned by GetError(). */
     public static final int GL_INVALID_FRAMEBUFFER_OPERATION_EXT = 0x506;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTFramebufferObject.class, "glDeleteRenderbuffersEXT,glGenRenderbuffersEXT,glGetRenderbufferParameterivEXT,glDeleteFramebuffersEXT,glGenFramebuffersEXT,glGetFramebufferAttachmentParameterivEXT");
+
     static { GL.initialize(); }
 
     protected EXTFramebufferObject() {
@@ -170,14 +172,18 @@ public class EXTFramebufferObject {
     public static native void nglDeleteRenderbuffersEXT(int n, long renderbuffers);
 
     public static void glDeleteRenderbuffersEXT(@NativeType("GLuint const *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteRenderbuffersEXT(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDeleteRenderbuffersEXT(@NativeType("GLuint const *") int renderbuffer) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.ints(renderbuffer);
+            long __start = FunctionProfiler.start();
             nglDeleteRenderbuffersEXT(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -188,7 +194,9 @@ public class EXTFramebufferObject {
     public static native void nglGenRenderbuffersEXT(int n, long renderbuffers);
 
     public static void glGenRenderbuffersEXT(@NativeType("GLuint *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglGenRenderbuffersEXT(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -196,7 +204,9 @@ public class EXTFramebufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenRenderbuffersEXT(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return renderbuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -215,7 +225,9 @@ public class EXTFramebufferObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetRenderbufferParameterivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -223,7 +235,9 @@ public class EXTFramebufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetRenderbufferParameterivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -244,14 +258,18 @@ public class EXTFramebufferObject {
     public static native void nglDeleteFramebuffersEXT(int n, long framebuffers);
 
     public static void glDeleteFramebuffersEXT(@NativeType("GLuint const *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteFramebuffersEXT(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     public static void glDeleteFramebuffersEXT(@NativeType("GLuint const *") int framebuffer) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.ints(framebuffer);
+            long __start = FunctionProfiler.start();
             nglDeleteFramebuffersEXT(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -262,7 +280,9 @@ public class EXTFramebufferObject {
     public static native void nglGenFramebuffersEXT(int n, long framebuffers);
 
     public static void glGenFramebuffersEXT(@NativeType("GLuint *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglGenFramebuffersEXT(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -270,7 +290,9 @@ public class EXTFramebufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenFramebuffersEXT(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return framebuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -306,7 +328,9 @@ public class EXTFramebufferObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFramebufferAttachmentParameterivEXT(target, attachment, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -314,7 +338,9 @@ public class EXTFramebufferObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFramebufferAttachmentParameterivEXT(target, attachment, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -331,7 +357,9 @@ public class EXTFramebufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGenRenderbuffersEXT GenRenderbuffersEXT} */
@@ -340,7 +368,9 @@ public class EXTFramebufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetRenderbufferParameterivEXT GetRenderbufferParameterivEXT} */
@@ -350,7 +380,9 @@ public class EXTFramebufferObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glDeleteFramebuffersEXT DeleteFramebuffersEXT} */
@@ -359,7 +391,9 @@ public class EXTFramebufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGenFramebuffersEXT GenFramebuffersEXT} */
@@ -368,7 +402,9 @@ public class EXTFramebufferObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetFramebufferAttachmentParameterivEXT GetFramebufferAttachmentParameterivEXT} */
@@ -378,7 +414,9 @@ public class EXTFramebufferObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachment, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTGPUProgramParameters {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTGPUProgramParameters.class, "glProgramEnvParameters4fvEXT,glProgramLocalParameters4fvEXT");
+
     static { GL.initialize(); }
 
     protected EXTGPUProgramParameters() {
@@ -42,7 +44,9 @@ public class EXTGPUProgramParameters {
     public static native void nglProgramEnvParameters4fvEXT(int target, int index, int count, long params);
 
     public static void glProgramEnvParameters4fvEXT(@NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglProgramEnvParameters4fvEXT(target, index, params.remaining() >> 2, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramLocalParameters4fvEXT ] ---
@@ -50,7 +54,9 @@ public class EXTGPUProgramParameters {
     public static native void nglProgramLocalParameters4fvEXT(int target, int index, int count, long params);
 
     public static void glProgramLocalParameters4fvEXT(@NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglProgramLocalParameters4fvEXT(target, index, params.remaining() >> 2, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glProgramEnvParameters4fvEXT ProgramEnvParameters4fvEXT} */
@@ -59,7 +65,9 @@ public class EXTGPUProgramParameters {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params.length >> 2, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glProgramLocalParameters4fvEXT ProgramLocalParameters4fvEXT} */
@@ -68,7 +76,9 @@ public class EXTGPUProgramParameters {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, params.length >> 2, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -105,6 +105,8 @@ public class EXTGPUShader4 {
         GL_MIN_PROGRAM_TEXEL_OFFSET_EXT = 0x8904,
         GL_MAX_PROGRAM_TEXEL_OFFSET_EXT = 0x8905;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTGPUShader4.class, "glVertexAttribI1ivEXT,glVertexAttribI2ivEXT,glVertexAttribI3ivEXT,glVertexAttribI4ivEXT,glVertexAttribI1uivEXT,glVertexAttribI2uivEXT,glVertexAttribI3uivEXT,glVertexAttribI4uivEXT,glVertexAttribI4bvEXT,glVertexAttribI4svEXT,glVertexAttribI4ubvEXT,glVertexAttribI4usvEXT,glVertexAttribIPointerEXT,glGetVertexAttribIivEXT,glGetVertexAttribIuivEXT,glGetUniformuivEXT,glBindFragDataLocationEXT,glGetFragDataLocationEXT,glUniform1uivEXT,glUniform2uivEXT,glUniform3uivEXT,glUniform4uivEXT");
+
     static { GL.initialize(); }
 
     protected EXTGPUShader4() {
@@ -230,7 +232,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI1ivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertexAttribI2ivEXT ] ---
@@ -248,7 +252,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI2ivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glVertexAttribI3ivEXT ] ---
@@ -266,7 +272,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI3ivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glVertexAttribI4ivEXT ] ---
@@ -284,7 +292,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4ivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glVertexAttribI1uivEXT ] ---
@@ -302,7 +312,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI1uivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glVertexAttribI2uivEXT ] ---
@@ -320,7 +332,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI2uivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glVertexAttribI3uivEXT ] ---
@@ -338,7 +352,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI3uivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glVertexAttribI4uivEXT ] ---
@@ -356,7 +372,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4uivEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glVertexAttribI4bvEXT ] ---
@@ -374,7 +392,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4bvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glVertexAttribI4svEXT ] ---
@@ -392,7 +412,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4svEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glVertexAttribI4ubvEXT ] ---
@@ -410,7 +432,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4ubvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glVertexAttribI4usvEXT ] ---
@@ -428,7 +452,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4usvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glVertexAttribIPointerEXT ] ---
@@ -448,7 +474,9 @@ public class EXTGPUShader4 {
      *                currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribIPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointerEXT(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -463,7 +491,9 @@ public class EXTGPUShader4 {
      *                currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribIPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointerEXT(index, size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -478,7 +508,9 @@ public class EXTGPUShader4 {
      *                currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribIPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointerEXT(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -493,7 +525,9 @@ public class EXTGPUShader4 {
      *                currently bound to the {@link GL15#GL_ARRAY_BUFFER ARRAY_BUFFER} target. The initial value is 0.
      */
     public static void glVertexAttribIPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointerEXT(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glGetVertexAttribIivEXT ] ---
@@ -512,7 +546,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribIivEXT(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -526,7 +562,9 @@ public class EXTGPUShader4 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribIivEXT(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -549,7 +587,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribIuivEXT(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -563,7 +603,9 @@ public class EXTGPUShader4 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribIuivEXT(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -578,7 +620,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformuivEXT(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     @NativeType("void")
@@ -586,7 +630,9 @@ public class EXTGPUShader4 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformuivEXT(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -601,7 +647,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindFragDataLocationEXT(program, color, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     public static void glBindFragDataLocationEXT(@NativeType("GLuint") int program, @NativeType("GLuint") int color, @NativeType("GLchar const *") CharSequence name) {
@@ -609,7 +657,9 @@ public class EXTGPUShader4 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindFragDataLocationEXT(program, color, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 16, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -624,7 +674,8 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetFragDataLocationEXT(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetFragDataLocationEXT(program, memAddress(name)));
     }
 
     @NativeType("GLint")
@@ -633,7 +684,8 @@ public class EXTGPUShader4 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetFragDataLocationEXT(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetFragDataLocationEXT(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -660,7 +712,9 @@ public class EXTGPUShader4 {
     public static native void nglUniform1uivEXT(int location, int count, long value);
 
     public static void glUniform1uivEXT(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1uivEXT(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glUniform2uivEXT ] ---
@@ -668,7 +722,9 @@ public class EXTGPUShader4 {
     public static native void nglUniform2uivEXT(int location, int count, long value);
 
     public static void glUniform2uivEXT(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2uivEXT(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glUniform3uivEXT ] ---
@@ -676,7 +732,9 @@ public class EXTGPUShader4 {
     public static native void nglUniform3uivEXT(int location, int count, long value);
 
     public static void glUniform3uivEXT(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3uivEXT(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glUniform4uivEXT ] ---
@@ -684,7 +742,9 @@ public class EXTGPUShader4 {
     public static native void nglUniform4uivEXT(int location, int count, long value);
 
     public static void glUniform4uivEXT(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4uivEXT(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI1ivEXT VertexAttribI1ivEXT} */
@@ -694,7 +754,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI2ivEXT VertexAttribI2ivEXT} */
@@ -704,7 +766,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI3ivEXT VertexAttribI3ivEXT} */
@@ -714,7 +778,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI4ivEXT VertexAttribI4ivEXT} */
@@ -724,7 +790,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI1uivEXT VertexAttribI1uivEXT} */
@@ -734,7 +802,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI2uivEXT VertexAttribI2uivEXT} */
@@ -744,7 +814,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI3uivEXT VertexAttribI3uivEXT} */
@@ -754,7 +826,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI4uivEXT VertexAttribI4uivEXT} */
@@ -764,7 +838,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI4svEXT VertexAttribI4svEXT} */
@@ -774,7 +850,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glVertexAttribI4usvEXT VertexAttribI4usvEXT} */
@@ -784,7 +862,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glVertexAttribIPointerEXT VertexAttribIPointerEXT} */
@@ -793,7 +873,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glVertexAttribIPointerEXT VertexAttribIPointerEXT} */
@@ -802,7 +884,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribIivEXT GetVertexAttribIivEXT} */
@@ -812,7 +896,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribIuivEXT GetVertexAttribIuivEXT} */
@@ -822,7 +908,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glGetUniformuivEXT GetUniformuivEXT} */
@@ -832,7 +920,9 @@ public class EXTGPUShader4 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glUniform1uivEXT Uniform1uivEXT} */
@@ -841,7 +931,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glUniform2uivEXT Uniform2uivEXT} */
@@ -850,7 +942,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glUniform3uivEXT Uniform3uivEXT} */
@@ -859,7 +953,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #glUniform4uivEXT Uniform4uivEXT} */
@@ -868,7 +964,9 @@ public class EXTGPUShader4 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
 }
\ No newline at end of file
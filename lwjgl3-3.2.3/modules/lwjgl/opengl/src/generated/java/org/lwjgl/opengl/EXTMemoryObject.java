@@ -77,6 +77,8 @@ public class EXTMemoryObject {
     /** Constant values. */
     public static final int GL_UUID_SIZE_EXT = 16;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMemoryObject.class, "glGetUnsignedBytevEXT,glGetUnsignedBytei_vEXT,glDeleteMemoryObjectsEXT,glCreateMemoryObjectsEXT,glMemoryObjectParameterivEXT,glGetMemoryObjectParameterivEXT");
+
     static { GL.initialize(); }
 
     protected EXTMemoryObject() {
@@ -99,7 +101,9 @@ public class EXTMemoryObject {
     public static native void nglGetUnsignedBytevEXT(int pname, long data);
 
     public static void glGetUnsignedBytevEXT(@NativeType("GLenum") int pname, @NativeType("GLubyte *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetUnsignedBytevEXT(pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetUnsignedBytei_vEXT ] ---
@@ -107,7 +111,9 @@ public class EXTMemoryObject {
     public static native void nglGetUnsignedBytei_vEXT(int target, int index, long data);
 
     public static void glGetUnsignedBytei_vEXT(@NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLubyte *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetUnsignedBytei_vEXT(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glDeleteMemoryObjectsEXT ] ---
@@ -115,14 +121,18 @@ public class EXTMemoryObject {
     public static native void nglDeleteMemoryObjectsEXT(int n, long memoryObjects);
 
     public static void glDeleteMemoryObjectsEXT(@NativeType("GLuint const *") IntBuffer memoryObjects) {
+        long __start = FunctionProfiler.start();
         nglDeleteMemoryObjectsEXT(memoryObjects.remaining(), memAddress(memoryObjects));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glDeleteMemoryObjectsEXT(@NativeType("GLuint const *") int memoryObject) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer memoryObjects = stack.ints(memoryObject);
+            long __start = FunctionProfiler.start();
             nglDeleteMemoryObjectsEXT(1, memAddress(memoryObjects));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -138,7 +148,9 @@ public class EXTMemoryObject {
     public static native void nglCreateMemoryObjectsEXT(int n, long memoryObjects);
 
     public static void glCreateMemoryObjectsEXT(@NativeType("GLuint *") IntBuffer memoryObjects) {
+        long __start = FunctionProfiler.start();
         nglCreateMemoryObjectsEXT(memoryObjects.remaining(), memAddress(memoryObjects));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -146,7 +158,9 @@ public class EXTMemoryObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer memoryObjects = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateMemoryObjectsEXT(1, memAddress(memoryObjects));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return memoryObjects.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -161,14 +175,18 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glMemoryObjectParameteriEXT(@NativeType("GLuint") int memoryObject, @NativeType("GLenum") int pname, @NativeType("GLint const *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -182,7 +200,9 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -190,7 +210,9 @@ public class EXTMemoryObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -251,7 +273,9 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObjects.length, memoryObjects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glCreateMemoryObjectsEXT CreateMemoryObjectsEXT} */
@@ -260,7 +284,9 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObjects.length, memoryObjects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glMemoryObjectParameterivEXT MemoryObjectParameterivEXT} */
@@ -270,7 +296,9 @@ public class EXTMemoryObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObject, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetMemoryObjectParameterivEXT GetMemoryObjectParameterivEXT} */
@@ -280,7 +308,9 @@ public class EXTMemoryObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObject, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -66,6 +66,8 @@ public class EXTPointParameters {
         GL_POINT_FADE_THRESHOLD_SIZE_EXT = 0x8128,
         GL_DISTANCE_ATTENUATION_EXT      = 0x8129;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTPointParameters.class, "glPointParameterfvEXT");
+
     static { GL.initialize(); }
 
     protected EXTPointParameters() {
@@ -90,7 +92,9 @@ public class EXTPointParameters {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglPointParameterfvEXT(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPointParameterfvEXT PointParameterfvEXT} */
@@ -100,7 +104,9 @@ public class EXTPointParameters {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -40,6 +40,8 @@ public class EXTSecondaryColor {
     /** Accepted by the {@code array} parameter of EnableClientState and DisableClientState. */
     public static final int GL_SECONDARY_COLOR_ARRAY_EXT = 0x845E;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSecondaryColor.class, "glSecondaryColor3bvEXT,glSecondaryColor3svEXT,glSecondaryColor3ivEXT,glSecondaryColor3fvEXT,glSecondaryColor3dvEXT,glSecondaryColor3ubvEXT,glSecondaryColor3usvEXT,glSecondaryColor3uivEXT,glSecondaryColorPointerEXT");
+
     static { GL.initialize(); }
 
     protected EXTSecondaryColor() {
@@ -157,7 +159,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3bvEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glSecondaryColor3svEXT ] ---
@@ -174,7 +178,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3svEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glSecondaryColor3ivEXT ] ---
@@ -191,7 +197,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3ivEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glSecondaryColor3fvEXT ] ---
@@ -208,7 +216,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3fvEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glSecondaryColor3dvEXT ] ---
@@ -225,7 +235,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3dvEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glSecondaryColor3ubvEXT ] ---
@@ -242,7 +254,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3ubvEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glSecondaryColor3usvEXT ] ---
@@ -259,7 +273,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3usvEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glSecondaryColor3uivEXT ] ---
@@ -276,7 +292,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3uivEXT(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glSecondaryColorPointerEXT ] ---
@@ -293,7 +311,9 @@ public class EXTSecondaryColor {
      * @param pointer the secondary color array data
      */
     public static void glSecondaryColorPointerEXT(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointerEXT(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -305,7 +325,9 @@ public class EXTSecondaryColor {
      * @param pointer the secondary color array data
      */
     public static void glSecondaryColorPointerEXT(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointerEXT(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -317,7 +339,9 @@ public class EXTSecondaryColor {
      * @param pointer the secondary color array data
      */
     public static void glSecondaryColorPointerEXT(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointerEXT(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -329,7 +353,9 @@ public class EXTSecondaryColor {
      * @param pointer the secondary color array data
      */
     public static void glSecondaryColorPointerEXT(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointerEXT(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -341,7 +367,9 @@ public class EXTSecondaryColor {
      * @param pointer the secondary color array data
      */
     public static void glSecondaryColorPointerEXT(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointerEXT(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3svEXT SecondaryColor3svEXT} */
@@ -351,7 +379,9 @@ public class EXTSecondaryColor {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3ivEXT SecondaryColor3ivEXT} */
@@ -361,7 +391,9 @@ public class EXTSecondaryColor {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3fvEXT SecondaryColor3fvEXT} */
@@ -371,7 +403,9 @@ public class EXTSecondaryColor {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3dvEXT SecondaryColor3dvEXT} */
@@ -381,7 +415,9 @@ public class EXTSecondaryColor {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3usvEXT SecondaryColor3usvEXT} */
@@ -391,7 +427,9 @@ public class EXTSecondaryColor {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3uivEXT SecondaryColor3uivEXT} */
@@ -401,7 +439,9 @@ public class EXTSecondaryColor {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glSecondaryColorPointerEXT SecondaryColorPointerEXT} */
@@ -410,7 +450,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glSecondaryColorPointerEXT SecondaryColorPointerEXT} */
@@ -419,7 +461,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glSecondaryColorPointerEXT SecondaryColorPointerEXT} */
@@ -428,7 +472,9 @@ public class EXTSecondaryColor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(size, type, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
 }
\ No newline at end of file
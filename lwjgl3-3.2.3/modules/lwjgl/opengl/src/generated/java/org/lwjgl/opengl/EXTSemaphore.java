@@ -63,6 +63,8 @@ public class EXTSemaphore {
         GL_LAYOUT_DEPTH_READ_ONLY_STENCIL_ATTACHMENT_EXT = 0x9530,
         GL_LAYOUT_DEPTH_ATTACHMENT_STENCIL_READ_ONLY_EXT = 0x9531;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSemaphore.class, "glGenSemaphoresEXT,glDeleteSemaphoresEXT,glSemaphoreParameterui64vEXT,glGetSemaphoreParameterui64vEXT,glWaitSemaphoreEXT,glSignalSemaphoreEXT");
+
     static { GL.initialize(); }
 
     protected EXTSemaphore() {
@@ -101,7 +103,9 @@ public class EXTSemaphore {
     public static native void nglGenSemaphoresEXT(int n, long semaphores);
 
     public static void glGenSemaphoresEXT(@NativeType("GLuint *") IntBuffer semaphores) {
+        long __start = FunctionProfiler.start();
         nglGenSemaphoresEXT(semaphores.remaining(), memAddress(semaphores));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -109,7 +113,9 @@ public class EXTSemaphore {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer semaphores = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenSemaphoresEXT(1, memAddress(semaphores));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return semaphores.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -121,14 +127,18 @@ public class EXTSemaphore {
     public static native void nglDeleteSemaphoresEXT(int n, long semaphores);
 
     public static void glDeleteSemaphoresEXT(@NativeType("GLuint const *") IntBuffer semaphores) {
+        long __start = FunctionProfiler.start();
         nglDeleteSemaphoresEXT(semaphores.remaining(), memAddress(semaphores));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDeleteSemaphoresEXT(@NativeType("GLuint const *") int semaphore) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer semaphores = stack.ints(semaphore);
+            long __start = FunctionProfiler.start();
             nglDeleteSemaphoresEXT(1, memAddress(semaphores));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -147,14 +157,18 @@ public class EXTSemaphore {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSemaphoreParameterui64vEXT(semaphore, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glSemaphoreParameterui64EXT(@NativeType("GLuint") int semaphore, @NativeType("GLenum") int pname, @NativeType("GLuint64 const *") long param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.longs(param);
+            long __start = FunctionProfiler.start();
             nglSemaphoreParameterui64vEXT(semaphore, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -168,7 +182,9 @@ public class EXTSemaphore {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSemaphoreParameterui64vEXT(semaphore, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -176,7 +192,9 @@ public class EXTSemaphore {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetSemaphoreParameterui64vEXT(semaphore, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -191,7 +209,9 @@ public class EXTSemaphore {
         if (CHECKS) {
             check(srcLayouts, textures.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglWaitSemaphoreEXT(semaphore, buffers.remaining(), memAddress(buffers), textures.remaining(), memAddress(textures), memAddress(srcLayouts));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glSignalSemaphoreEXT ] ---
@@ -202,7 +222,9 @@ public class EXTSemaphore {
         if (CHECKS) {
             check(dstLayouts, textures.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglSignalSemaphoreEXT(semaphore, buffers.remaining(), memAddress(buffers), textures.remaining(), memAddress(textures), memAddress(dstLayouts));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGenSemaphoresEXT GenSemaphoresEXT} */
@@ -211,7 +233,9 @@ public class EXTSemaphore {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(semaphores.length, semaphores, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glDeleteSemaphoresEXT DeleteSemaphoresEXT} */
@@ -220,7 +244,9 @@ public class EXTSemaphore {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(semaphores.length, semaphores, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glSemaphoreParameterui64vEXT SemaphoreParameterui64vEXT} */
@@ -230,7 +256,9 @@ public class EXTSemaphore {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(semaphore, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetSemaphoreParameterui64vEXT GetSemaphoreParameterui64vEXT} */
@@ -240,7 +268,9 @@ public class EXTSemaphore {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(semaphore, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glWaitSemaphoreEXT WaitSemaphoreEXT} */
@@ -250,7 +280,9 @@ public class EXTSemaphore {
             check(__functionAddress);
             check(srcLayouts, textures.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(semaphore, buffers.length, buffers, textures.length, textures, srcLayouts, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glSignalSemaphoreEXT SignalSemaphoreEXT} */
@@ -260,7 +292,9 @@ public class EXTSemaphore {
             check(__functionAddress);
             check(dstLayouts, textures.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(semaphore, buffers.length, buffers, textures.length, textures, dstLayouts, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class EXTSemaphoreWin32 {
     /** Accepted by the {@code pname} parameter of {@link EXTSemaphore#glSemaphoreParameterui64vEXT SemaphoreParameterui64vEXT} and {@link EXTSemaphore#glGetSemaphoreParameterui64vEXT GetSemaphoreParameterui64vEXT}. */
     public static final int GL_D3D12_FENCE_VALUE_EXT = 0x9595;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSemaphoreWin32.class, "glImportSemaphoreWin32HandleEXT,glImportSemaphoreWin32NameEXT");
+
     static { GL.initialize(); }
 
     protected EXTSemaphoreWin32() {
@@ -63,7 +65,9 @@ public class EXTSemaphoreWin32 {
         if (CHECKS) {
             check(handle);
         }
+        long __start = FunctionProfiler.start();
         nglImportSemaphoreWin32HandleEXT(semaphore, handleType, handle);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glImportSemaphoreWin32NameEXT ] ---
@@ -74,7 +78,9 @@ public class EXTSemaphoreWin32 {
         if (CHECKS) {
             check(name);
         }
+        long __start = FunctionProfiler.start();
         nglImportSemaphoreWin32NameEXT(semaphore, handleType, name);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -55,6 +55,8 @@ public class EXTSeparateShaderObjects {
     /** Accepted by {@code type} parameter to GetIntegerv and GetFloatv. */
     public static final int GL_ACTIVE_PROGRAM_EXT = 0x8B8D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSeparateShaderObjects.class, "glCreateShaderProgramEXT");
+
     static { GL.initialize(); }
 
     protected EXTSeparateShaderObjects() {
@@ -84,7 +86,8 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             checkNT1(string);
         }
-        return nglCreateShaderProgramEXT(type, memAddress(string));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglCreateShaderProgramEXT(type, memAddress(string)));
     }
 
     @NativeType("GLuint")
@@ -93,7 +96,8 @@ public class EXTSeparateShaderObjects {
         try {
             stack.nUTF8(string, true);
             long stringEncoded = stack.getPointerAddress();
-            return nglCreateShaderProgramEXT(type, stringEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nglCreateShaderProgramEXT(type, stringEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
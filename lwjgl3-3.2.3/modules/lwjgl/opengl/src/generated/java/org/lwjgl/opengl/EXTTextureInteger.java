@@ -108,6 +108,8 @@ public class EXTTextureInteger {
         GL_LUMINANCE_INTEGER_EXT       = 0x8D9C,
         GL_LUMINANCE_ALPHA_INTEGER_EXT = 0x8D9D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTTextureInteger.class, "glTexParameterIivEXT,glTexParameterIuivEXT,glGetTexParameterIivEXT,glGetTexParameterIuivEXT");
+
     static { GL.initialize(); }
 
     protected EXTTextureInteger() {
@@ -137,14 +139,18 @@ public class EXTTextureInteger {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glTexParameterIiEXT(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -158,14 +164,18 @@ public class EXTTextureInteger {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIuivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glTexParameterIuiEXT(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLuint *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIuivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -179,7 +189,9 @@ public class EXTTextureInteger {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -187,7 +199,9 @@ public class EXTTextureInteger {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -202,7 +216,9 @@ public class EXTTextureInteger {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIuivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -210,7 +226,9 @@ public class EXTTextureInteger {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIuivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -224,7 +242,9 @@ public class EXTTextureInteger {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glTexParameterIuivEXT TexParameterIuivEXT} */
@@ -234,7 +254,9 @@ public class EXTTextureInteger {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetTexParameterIivEXT GetTexParameterIivEXT} */
@@ -244,7 +266,9 @@ public class EXTTextureInteger {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetTexParameterIuivEXT GetTexParameterIuivEXT} */
@@ -254,7 +278,9 @@ public class EXTTextureInteger {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
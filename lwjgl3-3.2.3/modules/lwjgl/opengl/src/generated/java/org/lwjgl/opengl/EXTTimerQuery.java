@@ -36,6 +36,8 @@ public class EXTTimerQuery {
     /** Accepted by the {@code target} parameter of BeginQuery, EndQuery, and GetQueryiv. */
     public static final int GL_TIME_ELAPSED_EXT = 0x88BF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTTimerQuery.class, "glGetQueryObjecti64vEXT,glGetQueryObjectui64vEXT");
+
     static { GL.initialize(); }
 
     protected EXTTimerQuery() {
@@ -56,7 +58,9 @@ public class EXTTimerQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjecti64vEXT(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -64,7 +68,9 @@ public class EXTTimerQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjecti64vEXT(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -79,7 +85,9 @@ public class EXTTimerQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectui64vEXT(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -87,7 +95,9 @@ public class EXTTimerQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectui64vEXT(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -101,7 +111,9 @@ public class EXTTimerQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetQueryObjectui64vEXT GetQueryObjectui64vEXT} */
@@ -111,7 +123,9 @@ public class EXTTimerQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
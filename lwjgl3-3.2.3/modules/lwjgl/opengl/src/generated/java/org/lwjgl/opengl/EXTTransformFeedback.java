@@ -87,6 +87,8 @@ public class EXTTransformFeedback {
         GL_TRANSFORM_FEEDBACK_BUFFER_MODE_EXT        = 0x8C7F,
         GL_TRANSFORM_FEEDBACK_VARYING_MAX_LENGTH_EXT = 0x8C76;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTTransformFeedback.class, "glTransformFeedbackVaryingsEXT,glGetTransformFeedbackVaryingEXT");
+
     static { GL.initialize(); }
 
     protected EXTTransformFeedback() {
@@ -125,14 +127,18 @@ public class EXTTransformFeedback {
     public static native void nglTransformFeedbackVaryingsEXT(int program, int count, long varyings, int bufferMode);
 
     public static void glTransformFeedbackVaryingsEXT(@NativeType("GLuint") int program, @NativeType("GLchar const * const *") PointerBuffer varyings, @NativeType("GLenum") int bufferMode) {
+        long __start = FunctionProfiler.start();
         nglTransformFeedbackVaryingsEXT(program, varyings.remaining(), memAddress(varyings), bufferMode);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glTransformFeedbackVaryingsEXT(@NativeType("GLuint") int program, @NativeType("GLchar const * const *") CharSequence[] varyings, @NativeType("GLenum") int bufferMode) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long varyingsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, varyings);
+            long __start = FunctionProfiler.start();
             nglTransformFeedbackVaryingsEXT(program, varyings.length, varyingsAddress, bufferMode);
+            FunctionProfiler.end(PROFILE_ID, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(varyingsAddress, varyings.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -143,7 +149,9 @@ public class EXTTransformFeedback {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long varyingsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, varying);
+            long __start = FunctionProfiler.start();
             nglTransformFeedbackVaryingsEXT(program, 1, varyingsAddress, bufferMode);
+            FunctionProfiler.end(PROFILE_ID, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(varyingsAddress, 1);
         } finally {
             stack.setPointer(stackPointer);
@@ -160,7 +168,9 @@ public class EXTTransformFeedback {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbackVaryingEXT(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -173,7 +183,9 @@ public class EXTTransformFeedback {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbackVaryingEXT(program, index, bufSize, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -226,7 +238,9 @@ public class EXTTransformFeedback {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetIntegerIndexedvEXT GetIntegerIndexedvEXT} */
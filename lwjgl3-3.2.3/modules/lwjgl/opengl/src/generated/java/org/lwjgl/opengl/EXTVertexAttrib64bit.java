@@ -58,6 +58,8 @@ public class EXTVertexAttrib64bit {
         GL_DOUBLE_MAT4x2_EXT = 0x8F4D,
         GL_DOUBLE_MAT4x3_EXT = 0x8F4E;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTVertexAttrib64bit.class, "glVertexAttribL1dvEXT,glVertexAttribL2dvEXT,glVertexAttribL3dvEXT,glVertexAttribL4dvEXT,glVertexAttribLPointerEXT,glGetVertexAttribLdvEXT");
+
     static { GL.initialize(); }
 
     protected EXTVertexAttrib64bit() {
@@ -96,7 +98,9 @@ public class EXTVertexAttrib64bit {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL1dvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertexAttribL2dvEXT ] ---
@@ -107,7 +111,9 @@ public class EXTVertexAttrib64bit {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL2dvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glVertexAttribL3dvEXT ] ---
@@ -118,7 +124,9 @@ public class EXTVertexAttrib64bit {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL3dvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glVertexAttribL4dvEXT ] ---
@@ -129,7 +137,9 @@ public class EXTVertexAttrib64bit {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL4dvEXT(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glVertexAttribLPointerEXT ] ---
@@ -137,15 +147,21 @@ public class EXTVertexAttrib64bit {
     public static native void nglVertexAttribLPointerEXT(int index, int size, int type, int stride, long pointer);
 
     public static void glVertexAttribLPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribLPointerEXT(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glVertexAttribLPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribLPointerEXT(index, size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glVertexAttribLPointerEXT(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLsizei") int stride, @NativeType("void const *") DoubleBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribLPointerEXT(index, size, GL11.GL_DOUBLE, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetVertexAttribLdvEXT ] ---
@@ -156,7 +172,9 @@ public class EXTVertexAttrib64bit {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribLdvEXT(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glVertexArrayVertexAttribLOffsetEXT ] ---
@@ -184,7 +202,9 @@ public class EXTVertexAttrib64bit {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL2dvEXT VertexAttribL2dvEXT} */
@@ -194,7 +214,9 @@ public class EXTVertexAttrib64bit {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL3dvEXT VertexAttribL3dvEXT} */
@@ -204,7 +226,9 @@ public class EXTVertexAttrib64bit {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL4dvEXT VertexAttribL4dvEXT} */
@@ -214,7 +238,9 @@ public class EXTVertexAttrib64bit {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribLdvEXT GetVertexAttribLdvEXT} */
@@ -224,7 +250,9 @@ public class EXTVertexAttrib64bit {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
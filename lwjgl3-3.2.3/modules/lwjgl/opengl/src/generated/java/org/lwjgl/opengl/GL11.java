@@ -705,6 +705,8 @@ public class GL11 {
         GL_T2F_C4F_N3F_V3F             = 0x2A2C,
         GL_T4F_C4F_N3F_V4F             = 0x2A2D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL11.class, "glAreTexturesResident,glBitmap,glCallLists,glClipPlane,glColor3bv,glColor3sv,glColor3iv,glColor3fv,glColor3dv,glColor3ubv,glColor3usv,glColor3uiv,glColor4bv,glColor4sv,glColor4iv,glColor4fv,glColor4dv,glColor4ubv,glColor4usv,glColor4uiv,glColorPointer,glDrawPixels,glEdgeFlagv,glEdgeFlagPointer,glEvalCoord1fv,glEvalCoord1dv,glEvalCoord2fv,glEvalCoord2dv,glFeedbackBuffer,glFogiv,glFogfv,glGetClipPlane,glGetLightiv,glGetLightfv,glGetMapiv,glGetMapfv,glGetMapdv,glGetMaterialiv,glGetMaterialfv,glGetPixelMapfv,glGetPixelMapusv,glGetPixelMapuiv,glGetPolygonStipple,glGetTexEnviv,glGetTexEnvfv,glGetTexGeniv,glGetTexGenfv,glGetTexGendv,glIndexiv,glIndexubv,glIndexsv,glIndexfv,glIndexdv,glIndexPointer,glInterleavedArrays,glLightModeliv,glLightModelfv,glLightiv,glLightfv,glLoadMatrixf,glLoadMatrixd,glMap1f,glMap1d,glMap2f,glMap2d,glMaterialiv,glMaterialfv,glMultMatrixf,glMultMatrixd,glNormal3fv,glNormal3bv,glNormal3sv,glNormal3iv,glNormal3dv,glNormalPointer,glPixelMapfv,glPixelMapusv,glPixelMapuiv,glPolygonStipple,glPrioritizeTextures,glRasterPos2iv,glRasterPos2sv,glRasterPos2fv,glRasterPos2dv,glRasterPos3iv,glRasterPos3sv,glRasterPos3fv,glRasterPos3dv,glRasterPos4iv,glRasterPos4sv,glRasterPos4fv,glRasterPos4dv,glRectiv,glRectsv,glRectfv,glRectdv,glSelectBuffer,glTexCoord1fv,glTexCoord1sv,glTexCoord1iv,glTexCoord1dv,glTexCoord2fv,glTexCoord2sv,glTexCoord2iv,glTexCoord2dv,glTexCoord3fv,glTexCoord3sv,glTexCoord3iv,glTexCoord3dv,glTexCoord4fv,glTexCoord4sv,glTexCoord4iv,glTexCoord4dv,glTexCoordPointer,glTexEnviv,glTexEnvfv,glTexGeniv,glTexGenfv,glTexGendv,glVertex2fv,glVertex2sv,glVertex2iv,glVertex2dv,glVertex3fv,glVertex3sv,glVertex3iv,glVertex3dv,glVertex4fv,glVertex4sv,glVertex4iv,glVertex4dv,glVertexPointer");
+
     static { GL.initialize(); }
 
     protected GL11() {
@@ -841,7 +843,8 @@ public class GL11 {
         if (CHECKS) {
             check(residences, textures.remaining());
         }
-        return nglAreTexturesResident(textures.remaining(), memAddress(textures), memAddress(residences));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglAreTexturesResident(textures.remaining(), memAddress(textures), memAddress(residences)));
     }
 
     /**
@@ -861,7 +864,8 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer textures = stack.ints(texture);
-            return nglAreTexturesResident(1, memAddress(textures), memAddress(residences));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nglAreTexturesResident(1, memAddress(textures), memAddress(residences)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -930,7 +934,9 @@ public class GL11 {
         if (CHECKS) {
             checkSafe(data, ((w + 7) >> 3) * h);
         }
+        long __start = FunctionProfiler.start();
         nglBitmap(w, h, xOrig, yOrig, xInc, yInc, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -948,7 +954,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glBitmap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glBitmap(@NativeType("GLsizei") int w, @NativeType("GLsizei") int h, @NativeType("GLfloat") float xOrig, @NativeType("GLfloat") float yOrig, @NativeType("GLfloat") float xInc, @NativeType("GLfloat") float yInc, @Nullable @NativeType("GLubyte const *") long data) {
+        long __start = FunctionProfiler.start();
         nglBitmap(w, h, xOrig, yOrig, xInc, yInc, data);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glBlendFunc ] ---
@@ -995,7 +1003,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer lists) {
+        long __start = FunctionProfiler.start();
         nglCallLists(lists.remaining() / GLChecks.typeToBytes(type), type, memAddress(lists));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1006,7 +1016,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") ByteBuffer lists) {
+        long __start = FunctionProfiler.start();
         nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(lists));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1017,7 +1029,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") ShortBuffer lists) {
+        long __start = FunctionProfiler.start();
         nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(lists));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1028,7 +1042,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") IntBuffer lists) {
+        long __start = FunctionProfiler.start();
         nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_INT, memAddress(lists));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glClear ] ---
@@ -1136,7 +1152,9 @@ public class GL11 {
         if (CHECKS) {
             check(equation, 4);
         }
+        long __start = FunctionProfiler.start();
         nglClipPlane(plane, memAddress(equation));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glColor3b ] ---
@@ -1259,7 +1277,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3bv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glColor3sv ] ---
@@ -1278,7 +1298,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glColor3iv ] ---
@@ -1297,7 +1319,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glColor3fv ] ---
@@ -1316,7 +1340,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glColor3dv ] ---
@@ -1335,7 +1361,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glColor3ubv ] ---
@@ -1354,7 +1382,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3ubv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glColor3usv ] ---
@@ -1373,7 +1403,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3usv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glColor3uiv ] ---
@@ -1392,7 +1424,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3uiv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glColor4b ] ---
@@ -1523,7 +1557,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4bv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glColor4sv ] ---
@@ -1542,7 +1578,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glColor4iv ] ---
@@ -1561,7 +1599,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glColor4fv ] ---
@@ -1580,7 +1620,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glColor4dv ] ---
@@ -1599,7 +1641,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glColor4ubv ] ---
@@ -1618,7 +1662,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4ubv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glColor4usv ] ---
@@ -1637,7 +1683,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4usv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glColor4uiv ] ---
@@ -1656,7 +1704,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4uiv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glColorMask ] ---
@@ -1705,7 +1755,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1719,7 +1771,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglColorPointer(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1733,7 +1787,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1747,7 +1803,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1761,7 +1819,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glCopyPixels ] ---
@@ -1997,7 +2057,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglDrawPixels(width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2012,7 +2074,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglDrawPixels(width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2027,7 +2091,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglDrawPixels(width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2042,7 +2108,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglDrawPixels(width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2057,7 +2125,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglDrawPixels(width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glEdgeFlag ] ---
@@ -2093,7 +2163,9 @@ public class GL11 {
         if (CHECKS) {
             check(flag, 1);
         }
+        long __start = FunctionProfiler.start();
         nglEdgeFlagv(memAddress(flag));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glEdgeFlagPointer ] ---
@@ -2110,7 +2182,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEdgeFlagPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEdgeFlagPointer(@NativeType("GLsizei") int stride, @NativeType("GLboolean const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglEdgeFlagPointer(stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -2122,7 +2196,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEdgeFlagPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEdgeFlagPointer(@NativeType("GLsizei") int stride, @NativeType("GLboolean const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglEdgeFlagPointer(stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glEnableClientState ] ---
@@ -2174,7 +2250,9 @@ public class GL11 {
         if (CHECKS) {
             check(u, 1);
         }
+        long __start = FunctionProfiler.start();
         nglEvalCoord1fv(memAddress(u));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glEvalCoord1d ] ---
@@ -2204,7 +2282,9 @@ public class GL11 {
         if (CHECKS) {
             check(u, 1);
         }
+        long __start = FunctionProfiler.start();
         nglEvalCoord1dv(memAddress(u));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ glEvalCoord2f ] ---
@@ -2235,7 +2315,9 @@ public class GL11 {
         if (CHECKS) {
             check(u, 2);
         }
+        long __start = FunctionProfiler.start();
         nglEvalCoord2fv(memAddress(u));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glEvalCoord2d ] ---
@@ -2266,7 +2348,9 @@ public class GL11 {
         if (CHECKS) {
             check(u, 2);
         }
+        long __start = FunctionProfiler.start();
         nglEvalCoord2dv(memAddress(u));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glEvalMesh1 ] ---
@@ -2338,7 +2422,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFeedbackBuffer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFeedbackBuffer(@NativeType("GLenum") int type, @NativeType("GLfloat *") FloatBuffer buffer) {
+        long __start = FunctionProfiler.start();
         nglFeedbackBuffer(buffer.remaining(), type, memAddress(buffer));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glFinish ] ---
@@ -2393,7 +2479,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglFogiv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glFogf ] ---
@@ -2425,7 +2513,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglFogfv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glFrontFace ] ---
@@ -2553,7 +2643,9 @@ public class GL11 {
         if (CHECKS) {
             check(equation, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetClipPlane(plane, memAddress(equation));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glGetBooleanv ] ---
@@ -2747,7 +2839,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetLightiv(light, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2763,7 +2857,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetLightiv(light, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 32, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2788,7 +2884,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetLightfv(light, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2804,7 +2902,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetLightfv(light, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 33, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2829,7 +2929,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetMapiv(target, query, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2845,7 +2947,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMapiv(target, query, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 34, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2870,7 +2974,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetMapfv(target, query, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -2886,7 +2992,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMapfv(target, query, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2911,7 +3019,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetMapdv(target, query, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2927,7 +3037,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer data = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetMapdv(target, query, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 36, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2952,7 +3064,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMaterialiv(face, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ glGetMaterialfv ] ---
@@ -2973,7 +3087,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMaterialfv(face, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ glGetPixelMapfv ] ---
@@ -2993,7 +3109,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 32);
         }
+        long __start = FunctionProfiler.start();
         nglGetPixelMapfv(map, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -3005,7 +3123,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat *") long data) {
+        long __start = FunctionProfiler.start();
         nglGetPixelMapfv(map, data);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glGetPixelMapusv ] ---
@@ -3025,7 +3145,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 32);
         }
+        long __start = FunctionProfiler.start();
         nglGetPixelMapusv(map, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -3037,7 +3159,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort *") long data) {
+        long __start = FunctionProfiler.start();
         nglGetPixelMapusv(map, data);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ glGetPixelMapuiv ] ---
@@ -3057,7 +3181,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 32);
         }
+        long __start = FunctionProfiler.start();
         nglGetPixelMapuiv(map, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -3069,7 +3195,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glGetPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint *") long data) {
+        long __start = FunctionProfiler.start();
         nglGetPixelMapuiv(map, data);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ glGetPointerv ] ---
@@ -3119,7 +3247,9 @@ public class GL11 {
         if (CHECKS) {
             check(pattern, 128);
         }
+        long __start = FunctionProfiler.start();
         nglGetPolygonStipple(memAddress(pattern));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -3130,7 +3260,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glGetPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glGetPolygonStipple(@NativeType("void *") long pattern) {
+        long __start = FunctionProfiler.start();
         nglGetPolygonStipple(pattern);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ glGetString ] ---
@@ -3171,7 +3303,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexEnviv(env, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -3187,7 +3321,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexEnviv(env, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 43, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3212,7 +3348,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexEnvfv(env, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -3228,7 +3366,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTexEnvfv(env, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 44, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3253,7 +3393,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexGeniv(coord, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -3269,7 +3411,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexGeniv(coord, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 45, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3294,7 +3438,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexGenfv(coord, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -3310,7 +3456,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTexGenfv(coord, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 46, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3335,7 +3483,9 @@ public class GL11 {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexGendv(coord, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -3351,7 +3501,9 @@ public class GL11 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer data = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetTexGendv(coord, pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 47, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3677,7 +3829,9 @@ public class GL11 {
         if (CHECKS) {
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         nglIndexiv(memAddress(index));
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ glIndexubv ] ---
@@ -3696,7 +3850,9 @@ public class GL11 {
         if (CHECKS) {
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         nglIndexubv(memAddress(index));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ glIndexsv ] ---
@@ -3715,7 +3871,9 @@ public class GL11 {
         if (CHECKS) {
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         nglIndexsv(memAddress(index));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ glIndexfv ] ---
@@ -3734,7 +3892,9 @@ public class GL11 {
         if (CHECKS) {
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         nglIndexfv(memAddress(index));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ glIndexdv ] ---
@@ -3753,7 +3913,9 @@ public class GL11 {
         if (CHECKS) {
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         nglIndexdv(memAddress(index));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     // --- [ glIndexMask ] ---
@@ -3788,7 +3950,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglIndexPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -3801,7 +3965,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglIndexPointer(type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -3813,7 +3979,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglIndexPointer(GL11.GL_UNSIGNED_BYTE, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -3825,7 +3993,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglIndexPointer(GL11.GL_SHORT, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -3837,7 +4007,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexPointer(@NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglIndexPointer(GL11.GL_INT, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ glInitNames ] ---
@@ -3864,7 +4036,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglInterleavedArrays(format, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3877,7 +4051,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglInterleavedArrays(format, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3890,7 +4066,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglInterleavedArrays(format, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3903,7 +4081,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglInterleavedArrays(format, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3916,7 +4096,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglInterleavedArrays(format, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3929,7 +4111,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glInterleavedArrays">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glInterleavedArrays(@NativeType("GLenum") int format, @NativeType("GLsizei") int stride, @NativeType("void const *") DoubleBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglInterleavedArrays(format, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ glIsEnabled ] ---
@@ -4013,7 +4197,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglLightModeliv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ glLightModelfv ] ---
@@ -4033,7 +4219,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglLightModelfv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ glLighti ] ---
@@ -4080,7 +4268,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglLightiv(light, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ glLightfv ] ---
@@ -4101,7 +4291,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglLightfv(light, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     // --- [ glLineStipple ] ---
@@ -4170,7 +4362,9 @@ public class GL11 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglLoadMatrixf(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     // --- [ glLoadMatrixd ] ---
@@ -4189,7 +4383,9 @@ public class GL11 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglLoadMatrixd(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ glLoadIdentity ] ---
@@ -4256,7 +4452,9 @@ public class GL11 {
         if (CHECKS) {
             check(points, order * stride);
         }
+        long __start = FunctionProfiler.start();
         nglMap1f(target, u1, u2, stride, order, memAddress(points));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ glMap1d ] ---
@@ -4280,7 +4478,9 @@ public class GL11 {
         if (CHECKS) {
             check(points, stride * order);
         }
+        long __start = FunctionProfiler.start();
         nglMap1d(target, u1, u2, stride, order, memAddress(points));
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     // --- [ glMap2f ] ---
@@ -4308,7 +4508,9 @@ public class GL11 {
         if (CHECKS) {
             check(points, ustride * uorder * vstride * vorder);
         }
+        long __start = FunctionProfiler.start();
         nglMap2f(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ glMap2d ] ---
@@ -4336,7 +4538,9 @@ public class GL11 {
         if (CHECKS) {
             check(points, ustride * uorder * vstride * vorder);
         }
+        long __start = FunctionProfiler.start();
         nglMap2d(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ glMapGrid1f ] ---
@@ -4441,7 +4645,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMaterialiv(face, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ glMaterialfv ] ---
@@ -4462,7 +4668,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMaterialfv(face, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     // --- [ glMatrixMode ] ---
@@ -4492,7 +4700,9 @@ public class GL11 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMultMatrixf(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ glMultMatrixd ] ---
@@ -4511,7 +4721,9 @@ public class GL11 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMultMatrixd(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     // --- [ glFrustum ] ---
@@ -4645,7 +4857,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglNormal3fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     // --- [ glNormal3bv ] ---
@@ -4664,7 +4878,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglNormal3bv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     // --- [ glNormal3sv ] ---
@@ -4683,7 +4899,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglNormal3sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     // --- [ glNormal3iv ] ---
@@ -4702,7 +4920,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglNormal3iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     // --- [ glNormal3dv ] ---
@@ -4721,7 +4941,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglNormal3dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     // --- [ glNormalPointer ] ---
@@ -4739,7 +4961,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglNormalPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     /**
@@ -4752,7 +4976,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglNormalPointer(type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     /**
@@ -4765,7 +4991,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglNormalPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     /**
@@ -4778,7 +5006,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglNormalPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     /**
@@ -4791,7 +5021,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormalPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormalPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglNormalPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     // --- [ glOrtho ] ---
@@ -4854,7 +5086,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLfloat const *") long values) {
+        long __start = FunctionProfiler.start();
         nglPixelMapfv(map, size, values);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /**
@@ -4866,7 +5100,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat const *") FloatBuffer values) {
+        long __start = FunctionProfiler.start();
         nglPixelMapfv(map, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     // --- [ glPixelMapusv ] ---
@@ -4888,7 +5124,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLushort const *") long values) {
+        long __start = FunctionProfiler.start();
         nglPixelMapusv(map, size, values);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /**
@@ -4900,7 +5138,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort const *") ShortBuffer values) {
+        long __start = FunctionProfiler.start();
         nglPixelMapusv(map, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     // --- [ glPixelMapuiv ] ---
@@ -4922,7 +5162,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLuint const *") long values) {
+        long __start = FunctionProfiler.start();
         nglPixelMapuiv(map, size, values);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     /**
@@ -4934,7 +5176,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint const *") IntBuffer values) {
+        long __start = FunctionProfiler.start();
         nglPixelMapuiv(map, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     // --- [ glPixelStorei ] ---
@@ -5081,7 +5325,9 @@ public class GL11 {
         if (CHECKS) {
             check(pattern, 128);
         }
+        long __start = FunctionProfiler.start();
         nglPolygonStipple(memAddress(pattern));
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     /**
@@ -5099,7 +5345,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPolygonStipple(@NativeType("GLubyte const *") long pattern) {
+        long __start = FunctionProfiler.start();
         nglPolygonStipple(pattern);
+        FunctionProfiler.end(PROFILE_ID + 78, __start);
     }
 
     // --- [ glPushAttrib ] ---
@@ -5196,7 +5444,9 @@ public class GL11 {
         if (CHECKS) {
             check(priorities, textures.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglPrioritizeTextures(textures.remaining(), memAddress(textures), memAddress(priorities));
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     // --- [ glPushMatrix ] ---
@@ -5289,7 +5539,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos2iv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     // --- [ glRasterPos2sv ] ---
@@ -5308,7 +5560,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos2sv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     // --- [ glRasterPos2fv ] ---
@@ -5327,7 +5581,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos2fv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
     }
 
     // --- [ glRasterPos2dv ] ---
@@ -5346,7 +5602,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos2dv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     // --- [ glRasterPos3i ] ---
@@ -5417,7 +5675,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos3iv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     // --- [ glRasterPos3sv ] ---
@@ -5436,7 +5696,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos3sv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     // --- [ glRasterPos3fv ] ---
@@ -5455,7 +5717,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos3fv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     // --- [ glRasterPos3dv ] ---
@@ -5474,7 +5738,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos3dv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     // --- [ glRasterPos4i ] ---
@@ -5549,7 +5815,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos4iv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     // --- [ glRasterPos4sv ] ---
@@ -5568,7 +5836,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos4sv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
     }
 
     // --- [ glRasterPos4fv ] ---
@@ -5587,7 +5857,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos4fv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     // --- [ glRasterPos4dv ] ---
@@ -5606,7 +5878,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglRasterPos4dv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     // --- [ glReadBuffer ] ---
@@ -5824,7 +6098,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRectiv(memAddress(v1), memAddress(v2));
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     // --- [ glRectsv ] ---
@@ -5845,7 +6121,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRectsv(memAddress(v1), memAddress(v2));
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     // --- [ glRectfv ] ---
@@ -5866,7 +6144,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRectfv(memAddress(v1), memAddress(v2));
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     // --- [ glRectdv ] ---
@@ -5887,7 +6167,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         nglRectdv(memAddress(v1), memAddress(v2));
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     // --- [ glRenderMode ] ---
@@ -6022,7 +6304,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glSelectBuffer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSelectBuffer(@NativeType("GLuint *") IntBuffer buffer) {
+        long __start = FunctionProfiler.start();
         nglSelectBuffer(buffer.remaining(), memAddress(buffer));
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     // --- [ glShadeModel ] ---
@@ -6159,7 +6443,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord1fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     // --- [ glTexCoord1sv ] ---
@@ -6178,7 +6464,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord1sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     // --- [ glTexCoord1iv ] ---
@@ -6197,7 +6485,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord1iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     // --- [ glTexCoord1dv ] ---
@@ -6216,7 +6506,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord1dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     // --- [ glTexCoord2f ] ---
@@ -6283,7 +6575,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord2fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     // --- [ glTexCoord2sv ] ---
@@ -6302,7 +6596,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord2sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     // --- [ glTexCoord2iv ] ---
@@ -6321,7 +6617,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord2iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     // --- [ glTexCoord2dv ] ---
@@ -6340,7 +6638,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord2dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 104, __start);
     }
 
     // --- [ glTexCoord3f ] ---
@@ -6411,7 +6711,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord3fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     // --- [ glTexCoord3sv ] ---
@@ -6430,7 +6732,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord3sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     // --- [ glTexCoord3iv ] ---
@@ -6449,7 +6753,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord3iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     // --- [ glTexCoord3dv ] ---
@@ -6468,7 +6774,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord3dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     // --- [ glTexCoord4f ] ---
@@ -6543,7 +6851,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord4fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     // --- [ glTexCoord4sv ] ---
@@ -6562,7 +6872,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord4sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     // --- [ glTexCoord4iv ] ---
@@ -6581,7 +6893,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord4iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     // --- [ glTexCoord4dv ] ---
@@ -6600,7 +6914,9 @@ public class GL11 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord4dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     // --- [ glTexCoordPointer ] ---
@@ -6619,7 +6935,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -6633,7 +6951,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglTexCoordPointer(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -6647,7 +6967,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -6661,7 +6983,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -6675,7 +6999,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoordPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglTexCoordPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     // --- [ glTexEnvi ] ---
@@ -6710,7 +7036,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexEnviv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     // --- [ glTexEnvf ] ---
@@ -6744,7 +7072,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexEnvfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     // --- [ glTexGeni ] ---
@@ -6786,7 +7116,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexGeniv(coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     // --- [ glTexGenf ] ---
@@ -6820,7 +7152,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexGenfv(coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     // --- [ glTexGend ] ---
@@ -6854,7 +7188,9 @@ public class GL11 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexGendv(coord, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     // --- [ glTexImage1D ] ---
@@ -7598,7 +7934,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertex2fv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     // --- [ glVertex2sv ] ---
@@ -7617,7 +7955,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertex2sv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     // --- [ glVertex2iv ] ---
@@ -7636,7 +7976,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertex2iv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 121, __start);
     }
 
     // --- [ glVertex2dv ] ---
@@ -7655,7 +7997,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertex2dv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     // --- [ glVertex3f ] ---
@@ -7727,7 +8071,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertex3fv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 123, __start);
     }
 
     // --- [ glVertex3sv ] ---
@@ -7746,7 +8092,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertex3sv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 124, __start);
     }
 
     // --- [ glVertex3iv ] ---
@@ -7765,7 +8113,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertex3iv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     // --- [ glVertex3dv ] ---
@@ -7784,7 +8134,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertex3dv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     // --- [ glVertex4f ] ---
@@ -7859,7 +8211,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertex4fv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 127, __start);
     }
 
     // --- [ glVertex4sv ] ---
@@ -7878,7 +8232,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertex4sv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 128, __start);
     }
 
     // --- [ glVertex4iv ] ---
@@ -7897,7 +8253,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertex4iv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 129, __start);
     }
 
     // --- [ glVertex4dv ] ---
@@ -7916,7 +8274,9 @@ public class GL11 {
         if (CHECKS) {
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertex4dv(memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 130, __start);
     }
 
     // --- [ glVertexPointer ] ---
@@ -7935,7 +8295,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     /**
@@ -7949,7 +8311,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexPointer(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     /**
@@ -7963,7 +8327,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     /**
@@ -7977,7 +8343,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     /**
@@ -7991,7 +8359,9 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertexPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertexPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     // --- [ glViewport ] ---
@@ -8033,7 +8403,8 @@ public class GL11 {
             check(__functionAddress);
             check(residences, textures.length);
         }
-        return callPPZ(textures.length, textures, memAddress(residences), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPZ(textures.length, textures, memAddress(residences), __functionAddress));
     }
 
     /**
@@ -8047,7 +8418,9 @@ public class GL11 {
             check(__functionAddress);
             check(equation, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(plane, equation, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -8061,7 +8434,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -8075,7 +8450,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -8089,7 +8466,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -8103,7 +8482,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -8117,7 +8498,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -8131,7 +8514,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -8145,7 +8530,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -8159,7 +8546,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -8173,7 +8562,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -8187,7 +8578,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -8201,7 +8594,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -8215,7 +8610,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -8228,7 +8625,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -8241,7 +8640,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -8254,7 +8655,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -8268,7 +8671,9 @@ public class GL11 {
             check(__functionAddress);
             check(u, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(u, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -8282,7 +8687,9 @@ public class GL11 {
             check(__functionAddress);
             check(u, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(u, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -8296,7 +8703,9 @@ public class GL11 {
             check(__functionAddress);
             check(u, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(u, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -8310,7 +8719,9 @@ public class GL11 {
             check(__functionAddress);
             check(u, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(u, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -8323,7 +8734,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer.length, type, buffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -8337,7 +8750,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -8351,7 +8766,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -8383,7 +8800,9 @@ public class GL11 {
             check(__functionAddress);
             check(equation, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(plane, equation, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -8424,7 +8843,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(light, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -8438,7 +8859,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(light, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -8452,7 +8875,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -8466,7 +8891,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -8480,7 +8907,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -8494,7 +8923,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(face, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -8508,7 +8939,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(face, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -8522,7 +8955,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 32);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -8536,7 +8971,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 32);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -8550,7 +8987,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 32);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -8564,7 +9003,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(env, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -8578,7 +9019,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(env, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -8592,7 +9035,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -8606,7 +9051,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -8620,7 +9067,9 @@ public class GL11 {
             check(__functionAddress);
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -8706,7 +9155,9 @@ public class GL11 {
             check(__functionAddress);
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -8720,7 +9171,9 @@ public class GL11 {
             check(__functionAddress);
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -8734,7 +9187,9 @@ public class GL11 {
             check(__functionAddress);
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -8748,7 +9203,9 @@ public class GL11 {
             check(__functionAddress);
             check(index, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -8761,7 +9218,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(format, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -8774,7 +9233,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(format, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -8787,7 +9248,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(format, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -8800,7 +9263,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(format, stride, pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -8814,7 +9279,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -8828,7 +9295,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -8842,7 +9311,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(light, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -8856,7 +9327,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(light, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     /**
@@ -8870,7 +9343,9 @@ public class GL11 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -8884,7 +9359,9 @@ public class GL11 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     /**
@@ -8898,7 +9375,9 @@ public class GL11 {
             check(__functionAddress);
             check(points, order * stride);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, u1, u2, stride, order, points, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /**
@@ -8912,7 +9391,9 @@ public class GL11 {
             check(__functionAddress);
             check(points, stride * order);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, u1, u2, stride, order, points, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     /**
@@ -8926,7 +9407,9 @@ public class GL11 {
             check(__functionAddress);
             check(points, ustride * uorder * vstride * vorder);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     /**
@@ -8940,7 +9423,9 @@ public class GL11 {
             check(__functionAddress);
             check(points, ustride * uorder * vstride * vorder);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     /**
@@ -8954,7 +9439,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(face, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     /**
@@ -8968,7 +9455,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(face, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
     }
 
     /**
@@ -8982,7 +9471,9 @@ public class GL11 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     /**
@@ -8996,7 +9487,9 @@ public class GL11 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     /**
@@ -9010,7 +9503,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     /**
@@ -9024,7 +9519,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     /**
@@ -9038,7 +9535,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     /**
@@ -9052,7 +9551,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /**
@@ -9065,7 +9566,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /**
@@ -9078,7 +9581,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /**
@@ -9091,7 +9596,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     /**
@@ -9105,7 +9612,9 @@ public class GL11 {
             check(__functionAddress);
             check(priorities, textures.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(textures.length, textures, priorities, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     /**
@@ -9119,7 +9628,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     /**
@@ -9133,7 +9644,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     /**
@@ -9147,7 +9660,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
     }
 
     /**
@@ -9161,7 +9676,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     /**
@@ -9175,7 +9692,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     /**
@@ -9189,7 +9708,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     /**
@@ -9203,7 +9724,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     /**
@@ -9217,7 +9740,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     /**
@@ -9231,7 +9756,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     /**
@@ -9245,7 +9772,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
     }
 
     /**
@@ -9259,7 +9788,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     /**
@@ -9273,7 +9804,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     /**
@@ -9315,7 +9848,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(v1, v2, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
     }
 
     /**
@@ -9330,7 +9865,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(v1, v2, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     /**
@@ -9345,7 +9882,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(v1, v2, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     /**
@@ -9360,7 +9899,9 @@ public class GL11 {
             check(v1, 2);
             check(v2, 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(v1, v2, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     /**
@@ -9373,7 +9914,9 @@ public class GL11 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer.length, buffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     /**
@@ -9387,7 +9930,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     /**
@@ -9401,7 +9946,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     /**
@@ -9415,7 +9962,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     /**
@@ -9429,7 +9978,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     /**
@@ -9443,7 +9994,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     /**
@@ -9457,7 +10010,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     /**
@@ -9471,7 +10026,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     /**
@@ -9485,7 +10042,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 104, __start);
     }
 
     /**
@@ -9499,7 +10058,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     /**
@@ -9513,7 +10074,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     /**
@@ -9527,7 +10090,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     /**
@@ -9541,7 +10106,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     /**
@@ -9555,7 +10122,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     /**
@@ -9569,7 +10138,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     /**
@@ -9583,7 +10154,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     /**
@@ -9597,7 +10170,9 @@ public class GL11 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     /**
@@ -9611,7 +10186,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     /**
@@ -9625,7 +10202,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /**
@@ -9639,7 +10218,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     /**
@@ -9653,7 +10234,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /**
@@ -9667,7 +10250,9 @@ public class GL11 {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     /**
@@ -9843,7 +10428,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     /**
@@ -9857,7 +10444,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     /**
@@ -9871,7 +10460,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 121, __start);
     }
 
     /**
@@ -9885,7 +10476,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     /**
@@ -9899,7 +10492,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 123, __start);
     }
 
     /**
@@ -9913,7 +10508,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 124, __start);
     }
 
     /**
@@ -9927,7 +10524,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     /**
@@ -9941,7 +10540,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     /**
@@ -9955,7 +10556,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 127, __start);
     }
 
     /**
@@ -9969,7 +10572,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 128, __start);
     }
 
     /**
@@ -9983,7 +10588,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 129, __start);
     }
 
     /**
@@ -9997,7 +10604,9 @@ public class GL11 {
             check(__functionAddress);
             check(coords, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 130, __start);
     }
 
 }
\ No newline at end of file
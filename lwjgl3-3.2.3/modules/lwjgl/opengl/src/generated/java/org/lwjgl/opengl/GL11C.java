@@ -317,6 +317,8 @@ public class GL11C {
     /** vertex_array */
     public static final int GL_VERTEX_ARRAY = 0x8074;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL11C.class, "glDrawElements,glGenTextures,glDeleteTextures,glGetBooleanv,glGetFloatv,glGetIntegerv,glGetDoublev,glGetPointerv,glGetString,glGetTexImage,glGetTexLevelParameteriv,glGetTexLevelParameterfv,glGetTexParameteriv,glGetTexParameterfv,glReadPixels,glTexImage1D,glTexImage2D,glTexParameteriv,glTexParameterfv,glTexSubImage1D,glTexSubImage2D");
+
     static { GL.initialize(); }
 
     protected GL11C() {
@@ -537,7 +539,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, count, type, indices);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -552,7 +556,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -566,7 +572,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -580,7 +588,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -594,7 +604,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glFinish ] ---
@@ -647,7 +659,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenTextures">Reference Page</a>
      */
     public static void glGenTextures(@NativeType("GLuint *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglGenTextures(textures.remaining(), memAddress(textures));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -661,7 +675,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer textures = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenTextures(1, memAddress(textures));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return textures.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -691,7 +707,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglDeleteTextures(textures.remaining(), memAddress(textures));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -709,7 +727,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer textures = stack.ints(texture);
+            long __start = FunctionProfiler.start();
             nglDeleteTextures(1, memAddress(textures));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -736,7 +756,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBooleanv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -755,7 +777,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             ByteBuffer params = stack.calloc(1);
+            long __start = FunctionProfiler.start();
             nglGetBooleanv(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0) != 0;
         } finally {
             stack.setPointer(stackPointer);
@@ -783,7 +807,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloatv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -802,7 +828,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloatv(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -830,7 +858,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegerv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -849,7 +879,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegerv(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -877,7 +909,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetDoublev(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -896,7 +930,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetDoublev(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -935,7 +971,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPointerv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -950,7 +988,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetPointerv(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -972,7 +1012,8 @@ public class GL11C {
     @Nullable
     @NativeType("GLubyte const *")
     public static String glGetString(@NativeType("GLenum") int name) {
-        long __result = nglGetString(name);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nglGetString(name));
         return memUTF8Safe(__result);
     }
 
@@ -993,7 +1034,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTexImage(tex, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1008,7 +1051,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTexImage(tex, level, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1023,7 +1068,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTexImage(tex, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1038,7 +1085,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTexImage(tex, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1053,7 +1102,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTexImage(tex, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1068,7 +1119,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTexImage(tex, level, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glGetTexLevelParameteriv ] ---
@@ -1090,7 +1143,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexLevelParameteriv(target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1107,7 +1162,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexLevelParameteriv(target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1133,7 +1190,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexLevelParameterfv(target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1150,7 +1209,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTexLevelParameterfv(target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1175,7 +1236,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1191,7 +1254,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1216,7 +1281,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1232,7 +1299,9 @@ public class GL11C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterfv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1402,7 +1471,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1423,7 +1494,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1444,7 +1517,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1465,7 +1540,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1486,7 +1563,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glScissor ] ---
@@ -1579,7 +1658,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage1D(target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1597,7 +1678,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1615,7 +1698,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage1D(target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1633,7 +1718,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage1D(target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1651,7 +1738,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage1D(target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1669,7 +1758,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage1D(target, level, internalformat, width, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glTexImage2D ] ---
@@ -1693,7 +1784,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1712,7 +1805,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1731,7 +1826,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1750,7 +1847,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1769,7 +1868,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1788,7 +1889,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glCopyTexImage1D ] ---
@@ -1913,7 +2016,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glTexParameterf ] ---
@@ -1947,7 +2052,9 @@ public class GL11C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glTexSubImage1D ] ---
@@ -1969,7 +2076,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage1D(target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1986,7 +2095,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2003,7 +2114,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage1D(target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2020,7 +2133,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage1D(target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2037,7 +2152,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage1D(target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2054,7 +2171,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage1D(target, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glTexSubImage2D ] ---
@@ -2079,7 +2198,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2099,7 +2220,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2119,7 +2242,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2139,7 +2264,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2159,7 +2286,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2179,7 +2308,9 @@ public class GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glViewport ] ---
@@ -2217,7 +2348,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(textures.length, textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2230,7 +2363,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(textures.length, textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2244,7 +2379,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -2258,7 +2395,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -2272,7 +2411,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -2285,7 +2426,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2298,7 +2441,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2311,7 +2456,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2324,7 +2471,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2338,7 +2487,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -2352,7 +2503,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -2366,7 +2519,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -2380,7 +2535,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2393,7 +2550,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2406,7 +2565,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2419,7 +2580,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2432,7 +2595,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2445,7 +2610,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2458,7 +2625,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2471,7 +2640,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2484,7 +2655,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2497,7 +2670,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2510,7 +2685,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2523,7 +2700,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2537,7 +2716,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -2551,7 +2732,9 @@ public class GL11C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -2564,7 +2747,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2577,7 +2762,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2590,7 +2777,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2603,7 +2792,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2616,7 +2807,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2629,7 +2822,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2642,7 +2837,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2655,7 +2852,9 @@ public class GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
 }
\ No newline at end of file
@@ -121,6 +121,8 @@ public class GL12C extends GL11C {
         GL_MAX_ELEMENTS_VERTICES = 0x80E8,
         GL_MAX_ELEMENTS_INDICES  = 0x80E9;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL12C.class, "glTexImage3D,glTexSubImage3D,glDrawRangeElements");
+
     static { GL.initialize(); }
 
     protected GL12C() {
@@ -149,7 +151,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage3D">Reference Page</a>
      */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -169,7 +173,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage3D">Reference Page</a>
      */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -189,7 +195,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage3D">Reference Page</a>
      */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -209,7 +217,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage3D">Reference Page</a>
      */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -229,7 +239,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage3D">Reference Page</a>
      */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -249,7 +261,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage3D">Reference Page</a>
      */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glTexSubImage3D ] ---
@@ -276,7 +290,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage3D">Reference Page</a>
      */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -298,7 +314,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage3D">Reference Page</a>
      */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -320,7 +338,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage3D">Reference Page</a>
      */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -342,7 +362,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage3D">Reference Page</a>
      */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -364,7 +386,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage3D">Reference Page</a>
      */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -386,7 +410,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage3D">Reference Page</a>
      */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glCopyTexSubImage3D ] ---
@@ -462,7 +488,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElements">Reference Page</a>
      */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, count, type, indices);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -506,7 +534,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElements">Reference Page</a>
      */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -549,7 +579,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElements">Reference Page</a>
      */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -592,7 +624,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElements">Reference Page</a>
      */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ShortBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -635,7 +669,9 @@ public class GL12C extends GL11C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElements">Reference Page</a>
      */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") IntBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -648,7 +684,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -661,7 +699,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -674,7 +714,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -687,7 +729,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -700,7 +744,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -713,7 +759,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -726,7 +774,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -739,7 +789,9 @@ public class GL12C extends GL11C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
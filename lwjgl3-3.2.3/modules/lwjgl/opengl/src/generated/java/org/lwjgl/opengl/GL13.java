@@ -208,6 +208,8 @@ public class GL13 extends GL12 {
         GL_TRANSPOSE_TEXTURE_MATRIX    = 0x84E5,
         GL_TRANSPOSE_COLOR_MATRIX      = 0x84E6;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL13.class, "glMultiTexCoord1fv,glMultiTexCoord1sv,glMultiTexCoord1iv,glMultiTexCoord1dv,glMultiTexCoord2fv,glMultiTexCoord2sv,glMultiTexCoord2iv,glMultiTexCoord2dv,glMultiTexCoord3fv,glMultiTexCoord3sv,glMultiTexCoord3iv,glMultiTexCoord3dv,glMultiTexCoord4fv,glMultiTexCoord4sv,glMultiTexCoord4iv,glMultiTexCoord4dv,glLoadTransposeMatrixf,glLoadTransposeMatrixd,glMultTransposeMatrixf,glMultTransposeMatrixd");
+
     static { GL.initialize(); }
 
     protected GL13() {
@@ -662,7 +664,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1fv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiTexCoord1sv ] ---
@@ -682,7 +686,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1sv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glMultiTexCoord1iv ] ---
@@ -702,7 +708,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1iv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMultiTexCoord1dv ] ---
@@ -722,7 +730,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1dv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glMultiTexCoord2f ] ---
@@ -794,7 +804,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2fv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glMultiTexCoord2sv ] ---
@@ -814,7 +826,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2sv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glMultiTexCoord2iv ] ---
@@ -834,7 +848,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2iv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glMultiTexCoord2dv ] ---
@@ -854,7 +870,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2dv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glMultiTexCoord3f ] ---
@@ -930,7 +948,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3fv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glMultiTexCoord3sv ] ---
@@ -950,7 +970,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3sv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glMultiTexCoord3iv ] ---
@@ -970,7 +992,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3iv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glMultiTexCoord3dv ] ---
@@ -990,7 +1014,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3dv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glMultiTexCoord4f ] ---
@@ -1070,7 +1096,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4fv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glMultiTexCoord4sv ] ---
@@ -1090,7 +1118,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4sv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glMultiTexCoord4iv ] ---
@@ -1110,7 +1140,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4iv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glMultiTexCoord4dv ] ---
@@ -1130,7 +1162,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4dv(texture, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glLoadTransposeMatrixf ] ---
@@ -1158,7 +1192,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglLoadTransposeMatrixf(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glLoadTransposeMatrixd ] ---
@@ -1177,7 +1213,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglLoadTransposeMatrixd(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glMultTransposeMatrixf ] ---
@@ -1196,7 +1234,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMultTransposeMatrixf(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glMultTransposeMatrixd ] ---
@@ -1215,7 +1255,9 @@ public class GL13 extends GL12 {
         if (CHECKS) {
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         nglMultTransposeMatrixd(memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1229,7 +1271,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1243,7 +1287,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1257,7 +1303,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1271,7 +1319,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1285,7 +1335,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1299,7 +1351,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1313,7 +1367,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1327,7 +1383,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1341,7 +1399,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1355,7 +1415,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1369,7 +1431,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1383,7 +1447,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1397,7 +1463,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1411,7 +1479,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1425,7 +1495,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1439,7 +1511,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1453,7 +1527,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1467,7 +1543,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1481,7 +1559,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1495,7 +1575,9 @@ public class GL13 extends GL12 {
             check(__functionAddress);
             check(m, 16);
         }
+        long __start = FunctionProfiler.start();
         callPV(m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
 }
\ No newline at end of file
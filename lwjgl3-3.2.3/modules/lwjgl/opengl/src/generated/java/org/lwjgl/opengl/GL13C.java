@@ -137,6 +137,8 @@ public class GL13C extends GL12C {
      */
     public static final int GL_CLAMP_TO_BORDER = 0x812D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL13C.class, "glCompressedTexImage3D,glCompressedTexImage2D,glCompressedTexImage1D,glCompressedTexSubImage3D,glCompressedTexSubImage2D,glCompressedTexSubImage1D,glGetCompressedTexImage");
+
     static { GL.initialize(); }
 
     protected GL13C() {
@@ -168,7 +170,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexImage3D">Reference Page</a>
      */
     public static void glCompressedTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage3D(target, level, internalformat, width, height, depth, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -186,7 +190,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexImage3D">Reference Page</a>
      */
     public static void glCompressedTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage3D(target, level, internalformat, width, height, depth, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glCompressedTexImage2D ] ---
@@ -213,7 +219,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexImage2D">Reference Page</a>
      */
     public static void glCompressedTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -230,7 +238,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexImage2D">Reference Page</a>
      */
     public static void glCompressedTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage2D(target, level, internalformat, width, height, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glCompressedTexImage1D ] ---
@@ -256,7 +266,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexImage1D">Reference Page</a>
      */
     public static void glCompressedTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage1D(target, level, internalformat, width, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -272,7 +284,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexImage1D">Reference Page</a>
      */
     public static void glCompressedTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage1D(target, level, internalformat, width, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glCompressedTexSubImage3D ] ---
@@ -302,7 +316,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexSubImage3D">Reference Page</a>
      */
     public static void glCompressedTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -322,7 +338,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexSubImage3D">Reference Page</a>
      */
     public static void glCompressedTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glCompressedTexSubImage2D ] ---
@@ -350,7 +368,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexSubImage2D">Reference Page</a>
      */
     public static void glCompressedTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -368,7 +388,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexSubImage2D">Reference Page</a>
      */
     public static void glCompressedTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glCompressedTexSubImage1D ] ---
@@ -394,7 +416,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexSubImage1D">Reference Page</a>
      */
     public static void glCompressedTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage1D(target, level, xoffset, width, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -410,7 +434,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTexSubImage1D">Reference Page</a>
      */
     public static void glCompressedTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage1D(target, level, xoffset, width, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glGetCompressedTexImage ] ---
@@ -433,7 +459,9 @@ public class GL13C extends GL12C {
                 check(pixels, GL11.glGetTexLevelParameteri(target, level, GL_TEXTURE_COMPRESSED_IMAGE_SIZE));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetCompressedTexImage(target, level, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -446,7 +474,9 @@ public class GL13C extends GL12C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTexImage">Reference Page</a>
      */
     public static void glGetCompressedTexImage(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTexImage(target, level, pixels);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glSampleCoverage ] ---
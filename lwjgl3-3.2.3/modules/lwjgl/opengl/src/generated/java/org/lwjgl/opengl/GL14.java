@@ -161,6 +161,8 @@ public class GL14 extends GL13 {
      */
     public static final int GL_MIRRORED_REPEAT = 0x8370;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL14.class, "glFogCoordfv,glFogCoorddv,glFogCoordPointer,glSecondaryColor3bv,glSecondaryColor3sv,glSecondaryColor3iv,glSecondaryColor3fv,glSecondaryColor3dv,glSecondaryColor3ubv,glSecondaryColor3usv,glSecondaryColor3uiv,glSecondaryColorPointer,glWindowPos2iv,glWindowPos2sv,glWindowPos2fv,glWindowPos2dv,glWindowPos3iv,glWindowPos3sv,glWindowPos3fv,glWindowPos3dv");
+
     static { GL.initialize(); }
 
     protected GL14() {
@@ -249,7 +251,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(coord, 1);
         }
+        long __start = FunctionProfiler.start();
         nglFogCoordfv(memAddress(coord));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glFogCoorddv ] ---
@@ -268,7 +272,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(coord, 1);
         }
+        long __start = FunctionProfiler.start();
         nglFogCoorddv(memAddress(coord));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glFogCoordPointer ] ---
@@ -286,7 +292,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFogCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogCoordPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglFogCoordPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -299,7 +307,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFogCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogCoordPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglFogCoordPointer(type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -312,7 +322,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFogCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogCoordPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglFogCoordPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -325,7 +337,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFogCoordPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogCoordPointer(@NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglFogCoordPointer(type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMultiDrawArrays ] ---
@@ -565,7 +579,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3bv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glSecondaryColor3sv ] ---
@@ -584,7 +600,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3sv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glSecondaryColor3iv ] ---
@@ -603,7 +621,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3iv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glSecondaryColor3fv ] ---
@@ -622,7 +642,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3fv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glSecondaryColor3dv ] ---
@@ -641,7 +663,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3dv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glSecondaryColor3ubv ] ---
@@ -660,7 +684,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3ubv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glSecondaryColor3usv ] ---
@@ -679,7 +705,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3usv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glSecondaryColor3uiv ] ---
@@ -698,7 +726,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3uiv(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glSecondaryColorPointer ] ---
@@ -717,7 +747,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glSecondaryColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSecondaryColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -731,7 +763,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glSecondaryColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSecondaryColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointer(size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -745,7 +779,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glSecondaryColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSecondaryColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -759,7 +795,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glSecondaryColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSecondaryColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -773,7 +811,9 @@ public class GL14 extends GL13 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glSecondaryColorPointer">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glSecondaryColorPointer(@NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglSecondaryColorPointer(size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glBlendFuncSeparate ] ---
@@ -856,7 +896,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2iv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glWindowPos2sv ] ---
@@ -875,7 +917,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2sv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glWindowPos2fv ] ---
@@ -894,7 +938,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2fv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glWindowPos2dv ] ---
@@ -913,7 +959,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos2dv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glWindowPos3i ] ---
@@ -984,7 +1032,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3iv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glWindowPos3sv ] ---
@@ -1003,7 +1053,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3sv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glWindowPos3fv ] ---
@@ -1022,7 +1074,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3fv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glWindowPos3dv ] ---
@@ -1041,7 +1095,9 @@ public class GL14 extends GL13 {
         if (CHECKS) {
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         nglWindowPos3dv(memAddress(p));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1055,7 +1111,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(coord, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1069,7 +1127,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(coord, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(coord, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1119,7 +1179,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1133,7 +1195,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1147,7 +1211,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1161,7 +1227,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1175,7 +1243,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1189,7 +1259,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1203,7 +1275,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1217,7 +1291,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1231,7 +1307,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1245,7 +1323,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1259,7 +1339,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1273,7 +1355,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1287,7 +1371,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1301,7 +1387,9 @@ public class GL14 extends GL13 {
             check(__functionAddress);
             check(p, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(p, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
 }
\ No newline at end of file
@@ -97,6 +97,8 @@ public class GL14C extends GL13C {
      */
     public static final int GL_MIRRORED_REPEAT = 0x8370;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL14C.class, "glMultiDrawArrays,glMultiDrawElements,glPointParameterfv,glPointParameteriv");
+
     static { GL.initialize(); }
 
     protected GL14C() {
@@ -150,7 +152,9 @@ public class GL14C extends GL13C {
         if (CHECKS) {
             check(count, first.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArrays(mode, memAddress(first), memAddress(count), first.remaining());
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElements ] ---
@@ -178,7 +182,9 @@ public class GL14C extends GL13C {
         if (CHECKS) {
             check(indices, count.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElements(mode, memAddress(count), type, memAddress(indices), count.remaining());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glPointParameterf ] ---
@@ -222,7 +228,9 @@ public class GL14C extends GL13C {
         if (CHECKS) {
             check(params, 3);
         }
+        long __start = FunctionProfiler.start();
         nglPointParameterfv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glPointParameteriv ] ---
@@ -242,7 +250,9 @@ public class GL14C extends GL13C {
         if (CHECKS) {
             check(params, 3);
         }
+        long __start = FunctionProfiler.start();
         nglPointParameteriv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glBlendFuncSeparate ] ---
@@ -270,7 +280,9 @@ public class GL14C extends GL13C {
             check(__functionAddress);
             check(count, first.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, first, count, first.length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -284,7 +296,9 @@ public class GL14C extends GL13C {
             check(__functionAddress);
             check(indices, count.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, count, type, memAddress(indices), count.length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -298,7 +312,9 @@ public class GL14C extends GL13C {
             check(__functionAddress);
             check(params, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -312,7 +328,9 @@ public class GL14C extends GL13C {
             check(__functionAddress);
             check(params, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -92,6 +92,8 @@ public class GL15C extends GL14C {
         GL_QUERY_RESULT           = 0x8866,
         GL_QUERY_RESULT_AVAILABLE = 0x8867;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL15C.class, "glDeleteBuffers,glGenBuffers,glBufferData,glBufferSubData,glGetBufferSubData,glMapBuffer,glGetBufferParameteriv,glGetBufferPointerv,glGenQueries,glDeleteQueries,glGetQueryiv,glGetQueryObjectiv,glGetQueryObjectuiv");
+
     static { GL.initialize(); }
 
     protected GL15C() {
@@ -127,7 +129,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteBuffers">Reference Page</a>
      */
     public static void glDeleteBuffers(@NativeType("GLuint const *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteBuffers(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -139,7 +143,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.ints(buffer);
+            long __start = FunctionProfiler.start();
             nglDeleteBuffers(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -162,7 +168,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenBuffers">Reference Page</a>
      */
     public static void glGenBuffers(@NativeType("GLuint *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglGenBuffers(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -175,7 +183,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenBuffers(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return buffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -232,7 +242,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, size, NULL, usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -264,7 +276,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, data.remaining(), memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -296,7 +310,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") ShortBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -328,7 +344,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") IntBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -360,7 +378,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") LongBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -392,7 +412,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") FloatBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -424,7 +446,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") DoubleBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glBufferSubData ] ---
@@ -446,7 +470,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -459,7 +485,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -472,7 +500,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -485,7 +515,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") LongBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -498,7 +530,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -511,7 +545,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetBufferSubData ] ---
@@ -533,7 +569,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubData(target, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -546,7 +584,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -559,7 +599,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -572,7 +614,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") LongBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -585,7 +629,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -598,7 +644,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glMapBuffer ] ---
@@ -625,7 +673,8 @@ public class GL15C extends GL14C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBuffer(@NativeType("GLenum") int target, @NativeType("GLenum") int access) {
-        long __result = nglMapBuffer(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nglMapBuffer(target, access));
         return memByteBufferSafe(__result, glGetBufferParameteri(target, GL_BUFFER_SIZE));
     }
 
@@ -648,7 +697,8 @@ public class GL15C extends GL14C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBuffer(@NativeType("GLenum") int target, @NativeType("GLenum") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBuffer(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nglMapBuffer(target, access));
         int length = glGetBufferParameteri(target, GL_BUFFER_SIZE);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -672,7 +722,8 @@ public class GL15C extends GL14C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBuffer(@NativeType("GLenum") int target, @NativeType("GLenum") int access, long length, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBuffer(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nglMapBuffer(target, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -711,7 +762,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -727,7 +780,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -752,7 +807,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferPointerv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -768,7 +825,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferPointerv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -792,7 +851,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenQueries">Reference Page</a>
      */
     public static void glGenQueries(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglGenQueries(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -805,7 +866,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenQueries(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -829,7 +892,9 @@ public class GL15C extends GL14C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteQueries">Reference Page</a>
      */
     public static void glDeleteQueries(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteQueries(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -841,7 +906,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteQueries(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -900,7 +967,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -916,7 +985,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -941,7 +1012,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectiv(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -957,7 +1030,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectiv(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -982,7 +1057,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectuiv(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -998,7 +1075,9 @@ public class GL15C extends GL14C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectuiv(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1015,7 +1094,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1028,7 +1109,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1041,7 +1124,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 1, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1054,7 +1139,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1067,7 +1154,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 3, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1080,7 +1169,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1093,7 +1184,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 3, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1106,7 +1199,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1119,7 +1214,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1132,7 +1229,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1145,7 +1244,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1158,7 +1259,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1171,7 +1274,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1184,7 +1289,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1197,7 +1304,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1210,7 +1319,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1223,7 +1334,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1237,7 +1350,9 @@ public class GL15C extends GL14C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1250,7 +1365,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1263,7 +1380,9 @@ public class GL15C extends GL14C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1277,7 +1396,9 @@ public class GL15C extends GL14C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1291,7 +1412,9 @@ public class GL15C extends GL14C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1305,7 +1428,9 @@ public class GL15C extends GL14C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
 }
\ No newline at end of file
@@ -160,6 +160,8 @@ public class GL20C extends GL15C {
         GL_STENCIL_BACK_VALUE_MASK      = 0x8CA4,
         GL_STENCIL_BACK_WRITEMASK       = 0x8CA5;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL20C.class, "glShaderSource,glUniform1fv,glUniform2fv,glUniform3fv,glUniform4fv,glUniform1iv,glUniform2iv,glUniform3iv,glUniform4iv,glUniformMatrix2fv,glUniformMatrix3fv,glUniformMatrix4fv,glGetShaderiv,glGetProgramiv,glGetShaderInfoLog,glGetProgramInfoLog,glGetAttachedShaders,glGetUniformLocation,glGetActiveUniform,glGetUniformfv,glGetUniformiv,glGetShaderSource,glVertexAttrib1fv,glVertexAttrib1sv,glVertexAttrib1dv,glVertexAttrib2fv,glVertexAttrib2sv,glVertexAttrib2dv,glVertexAttrib3fv,glVertexAttrib3sv,glVertexAttrib3dv,glVertexAttrib4fv,glVertexAttrib4sv,glVertexAttrib4dv,glVertexAttrib4iv,glVertexAttrib4bv,glVertexAttrib4ubv,glVertexAttrib4usv,glVertexAttrib4uiv,glVertexAttrib4Nbv,glVertexAttrib4Nsv,glVertexAttrib4Niv,glVertexAttrib4Nubv,glVertexAttrib4Nusv,glVertexAttrib4Nuiv,glVertexAttribPointer,glBindAttribLocation,glGetActiveAttrib,glGetAttribLocation,glGetVertexAttribiv,glGetVertexAttribfv,glGetVertexAttribdv,glGetVertexAttribPointerv,glDrawBuffers");
+
     static { GL.initialize(); }
 
     protected GL20C() {
@@ -298,7 +300,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkSafe(length, strings.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglShaderSource(shader, strings.remaining(), memAddress(strings), memAddressSafe(length));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -318,7 +322,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, strings);
+            long __start = FunctionProfiler.start();
             nglShaderSource(shader, strings.length, stringsAddress, stringsAddress - (strings.length << 2));
+            FunctionProfiler.end(PROFILE_ID, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, strings.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -341,7 +347,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+            long __start = FunctionProfiler.start();
             nglShaderSource(shader, 1, stringsAddress, stringsAddress - 4);
+            FunctionProfiler.end(PROFILE_ID, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, 1);
         } finally {
             stack.setPointer(stackPointer);
@@ -518,7 +526,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1fv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniform2fv ] ---
@@ -539,7 +549,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2fv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glUniform3fv ] ---
@@ -560,7 +572,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3fv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniform4fv ] ---
@@ -581,7 +595,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4fv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glUniform1iv ] ---
@@ -602,7 +618,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1iv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glUniform2iv ] ---
@@ -623,7 +641,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2iv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glUniform3iv ] ---
@@ -644,7 +664,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3iv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glUniform4iv ] ---
@@ -665,7 +687,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4iv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glUniformMatrix2fv ] ---
@@ -687,7 +711,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2fv(location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glUniformMatrix3fv ] ---
@@ -709,7 +735,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3fv(location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glUniformMatrix4fv ] ---
@@ -731,7 +759,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4fv(location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glGetShaderiv ] ---
@@ -752,7 +782,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderiv(shader, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -768,7 +800,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetShaderiv(shader, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -793,7 +827,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramiv(program, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -809,7 +845,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramiv(program, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -838,7 +876,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderInfoLog(shader, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -855,7 +895,9 @@ public class GL20C extends GL15C {
         ByteBuffer infoLog = memAlloc(maxLength);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetShaderInfoLog(shader, maxLength, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -897,7 +939,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramInfoLog(program, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -914,7 +958,9 @@ public class GL20C extends GL15C {
         ByteBuffer infoLog = memAlloc(maxLength);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetProgramInfoLog(program, maxLength, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -956,7 +1002,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkSafe(count, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetAttachedShaders(program, shaders.remaining(), memAddressSafe(count), memAddress(shaders));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glGetUniformLocation ] ---
@@ -977,7 +1025,8 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetUniformLocation(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetUniformLocation(program, memAddress(name)));
     }
 
     /**
@@ -994,7 +1043,8 @@ public class GL20C extends GL15C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetUniformLocation(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetUniformLocation(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1027,7 +1077,9 @@ public class GL20C extends GL15C {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniform(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1051,7 +1103,9 @@ public class GL20C extends GL15C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(maxLength);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniform(program, index, maxLength, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1091,7 +1145,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformfv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1107,7 +1163,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformfv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1132,7 +1190,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformiv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1148,7 +1208,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformiv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1177,7 +1239,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderSource(shader, source.remaining(), memAddressSafe(length), memAddress(source));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1194,7 +1258,9 @@ public class GL20C extends GL15C {
         ByteBuffer source = memAlloc(maxLength);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetShaderSource(shader, maxLength, memAddress(length), memAddress(source));
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
             return memUTF8(source, length.get(0));
         } finally {
             memFree(source);
@@ -1408,7 +1474,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glVertexAttrib1sv ] ---
@@ -1428,7 +1496,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1sv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glVertexAttrib1dv ] ---
@@ -1448,7 +1518,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glVertexAttrib2fv ] ---
@@ -1468,7 +1540,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ glVertexAttrib2sv ] ---
@@ -1488,7 +1562,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2sv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glVertexAttrib2dv ] ---
@@ -1508,7 +1584,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glVertexAttrib3fv ] ---
@@ -1528,7 +1606,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glVertexAttrib3sv ] ---
@@ -1548,7 +1628,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3sv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glVertexAttrib3dv ] ---
@@ -1568,7 +1650,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glVertexAttrib4fv ] ---
@@ -1588,7 +1672,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glVertexAttrib4sv ] ---
@@ -1608,7 +1694,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4sv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glVertexAttrib4dv ] ---
@@ -1628,7 +1716,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ glVertexAttrib4iv ] ---
@@ -1648,7 +1738,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4iv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glVertexAttrib4bv ] ---
@@ -1668,7 +1760,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4bv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ glVertexAttrib4ubv ] ---
@@ -1688,7 +1782,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4ubv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ glVertexAttrib4usv ] ---
@@ -1708,7 +1804,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4usv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ glVertexAttrib4uiv ] ---
@@ -1728,7 +1826,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4uiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ glVertexAttrib4Nbv ] ---
@@ -1748,7 +1848,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4Nbv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glVertexAttrib4Nsv ] ---
@@ -1768,7 +1870,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4Nsv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ glVertexAttrib4Niv ] ---
@@ -1788,7 +1892,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4Niv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ glVertexAttrib4Nubv ] ---
@@ -1808,7 +1914,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4Nubv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ glVertexAttrib4Nusv ] ---
@@ -1828,7 +1936,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4Nusv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ glVertexAttrib4Nuiv ] ---
@@ -1848,7 +1958,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4Nuiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ glVertexAttribPointer ] ---
@@ -1871,7 +1983,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -1889,7 +2003,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -1907,7 +2023,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -1925,7 +2043,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -1943,7 +2063,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ glEnableVertexAttribArray ] ---
@@ -1986,7 +2108,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindAttribLocation(program, index, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -2003,7 +2127,9 @@ public class GL20C extends GL15C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindAttribLocation(program, index, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 46, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2037,7 +2163,9 @@ public class GL20C extends GL15C {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveAttrib(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -2061,7 +2189,9 @@ public class GL20C extends GL15C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(maxLength);
+            long __start = FunctionProfiler.start();
             nglGetActiveAttrib(program, index, maxLength, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 47, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -2101,7 +2231,8 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetAttribLocation(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, nglGetAttribLocation(program, memAddress(name)));
     }
 
     /**
@@ -2118,7 +2249,8 @@ public class GL20C extends GL15C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetAttribLocation(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 48, __start, nglGetAttribLocation(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2142,7 +2274,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribiv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -2158,7 +2292,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribiv(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 49, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2183,7 +2319,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribfv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ glGetVertexAttribdv ] ---
@@ -2204,7 +2342,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribdv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ glGetVertexAttribPointerv ] ---
@@ -2225,7 +2365,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(pointer, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribPointerv(index, pname, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -2241,7 +2383,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer pointer = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribPointerv(index, pname, memAddress(pointer));
+            FunctionProfiler.end(PROFILE_ID + 52, __start);
             return pointer.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2265,7 +2409,9 @@ public class GL20C extends GL15C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawBuffers">Reference Page</a>
      */
     public static void glDrawBuffers(@NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglDrawBuffers(bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -2277,7 +2423,9 @@ public class GL20C extends GL15C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer bufs = stack.ints(buf);
+            long __start = FunctionProfiler.start();
             nglDrawBuffers(1, memAddress(bufs));
+            FunctionProfiler.end(PROFILE_ID + 53, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2348,7 +2496,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             checkSafe(length, strings.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, strings.remaining(), memAddress(strings), length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -2361,7 +2511,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2374,7 +2526,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2387,7 +2541,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -2400,7 +2556,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -2413,7 +2571,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -2426,7 +2586,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -2439,7 +2601,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -2452,7 +2616,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -2465,7 +2631,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2478,7 +2646,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -2491,7 +2661,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -2505,7 +2677,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(shader, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -2519,7 +2693,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2533,7 +2709,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2547,7 +2725,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2561,7 +2741,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             checkSafe(count, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, shaders.length, count, shaders, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2577,7 +2759,9 @@ public class GL20C extends GL15C {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -2591,7 +2775,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2605,7 +2791,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2619,7 +2807,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, source.remaining(), length, memAddress(source), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2633,7 +2823,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -2647,7 +2839,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -2661,7 +2855,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -2675,7 +2871,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -2689,7 +2887,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -2703,7 +2903,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -2717,7 +2919,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2731,7 +2935,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2745,7 +2951,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2759,7 +2967,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2773,7 +2983,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2787,7 +2999,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2801,7 +3015,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2815,7 +3031,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -2829,7 +3047,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2843,7 +3063,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2857,7 +3079,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2871,7 +3095,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -2885,7 +3111,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -2901,7 +3129,9 @@ public class GL20C extends GL15C {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -2915,7 +3145,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -2929,7 +3161,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -2943,7 +3177,9 @@ public class GL20C extends GL15C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -2956,7 +3192,9 @@ public class GL20C extends GL15C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
 }
\ No newline at end of file
@@ -58,6 +58,8 @@ public class GL21C extends GL20C {
         GL_COMPRESSED_SRGB       = 0x8C48,
         GL_COMPRESSED_SRGB_ALPHA = 0x8C49;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL21C.class, "glUniformMatrix2x3fv,glUniformMatrix3x2fv,glUniformMatrix2x4fv,glUniformMatrix4x2fv,glUniformMatrix3x4fv,glUniformMatrix4x3fv");
+
     static { GL.initialize(); }
 
     protected GL21C() {
@@ -83,7 +85,9 @@ public class GL21C extends GL20C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2x3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x3fv(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glUniformMatrix3x2fv ] ---
@@ -105,7 +109,9 @@ public class GL21C extends GL20C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3x2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x2fv(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniformMatrix2x4fv ] ---
@@ -127,7 +133,9 @@ public class GL21C extends GL20C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2x4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x4fv(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glUniformMatrix4x2fv ] ---
@@ -149,7 +157,9 @@ public class GL21C extends GL20C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4x2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x2fv(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniformMatrix3x4fv ] ---
@@ -171,7 +181,9 @@ public class GL21C extends GL20C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3x4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x4fv(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glUniformMatrix4x3fv ] ---
@@ -193,7 +205,9 @@ public class GL21C extends GL20C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4x3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x3fv(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -206,7 +220,9 @@ public class GL21C extends GL20C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -219,7 +235,9 @@ public class GL21C extends GL20C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -232,7 +250,9 @@ public class GL21C extends GL20C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -245,7 +265,9 @@ public class GL21C extends GL20C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -258,7 +280,9 @@ public class GL21C extends GL20C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -271,7 +295,9 @@ public class GL21C extends GL20C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
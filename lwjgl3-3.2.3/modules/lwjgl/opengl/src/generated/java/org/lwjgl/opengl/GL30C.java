@@ -472,6 +472,8 @@ public class GL30C extends GL21C {
      */
     public static final int GL_FRAMEBUFFER_SRGB = 0x8DB9;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL30C.class, "glGetStringi,glClearBufferiv,glClearBufferuiv,glClearBufferfv,glVertexAttribI1iv,glVertexAttribI2iv,glVertexAttribI3iv,glVertexAttribI4iv,glVertexAttribI1uiv,glVertexAttribI2uiv,glVertexAttribI3uiv,glVertexAttribI4uiv,glVertexAttribI4bv,glVertexAttribI4sv,glVertexAttribI4ubv,glVertexAttribI4usv,glVertexAttribIPointer,glGetVertexAttribIiv,glGetVertexAttribIuiv,glUniform1uiv,glUniform2uiv,glUniform3uiv,glUniform4uiv,glGetUniformuiv,glBindFragDataLocation,glGetFragDataLocation,glMapBufferRange,glDeleteRenderbuffers,glGenRenderbuffers,glGetRenderbufferParameteriv,glDeleteFramebuffers,glGenFramebuffers,glGetFramebufferAttachmentParameteriv,glTexParameterIiv,glTexParameterIuiv,glGetTexParameterIiv,glGetTexParameterIuiv,glGetBooleani_v,glGetIntegeri_v,glTransformFeedbackVaryings,glGetTransformFeedbackVarying,glDeleteVertexArrays,glGenVertexArrays");
+
     static { GL.initialize(); }
 
     protected GL30C() {
@@ -494,7 +496,8 @@ public class GL30C extends GL21C {
     @Nullable
     @NativeType("GLubyte const *")
     public static String glGetStringi(@NativeType("GLenum") int name, @NativeType("GLuint") int index) {
-        long __result = nglGetStringi(name, index);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglGetStringi(name, index));
         return memUTF8Safe(__result);
     }
 
@@ -517,7 +520,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearBufferiv(buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glClearBufferuiv ] ---
@@ -538,7 +543,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(value, 4);
         }
+        long __start = FunctionProfiler.start();
         nglClearBufferuiv(buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glClearBufferfv ] ---
@@ -560,7 +567,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearBufferfv(buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glClearBufferfi ] ---
@@ -702,7 +711,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI1iv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glVertexAttribI2iv ] ---
@@ -722,7 +733,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI2iv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glVertexAttribI3iv ] ---
@@ -742,7 +755,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI3iv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glVertexAttribI4iv ] ---
@@ -762,7 +777,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4iv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glVertexAttribI1uiv ] ---
@@ -782,7 +799,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI1uiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glVertexAttribI2uiv ] ---
@@ -802,7 +821,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI2uiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glVertexAttribI3uiv ] ---
@@ -822,7 +843,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI3uiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glVertexAttribI4uiv ] ---
@@ -842,7 +865,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4uiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glVertexAttribI4bv ] ---
@@ -862,7 +887,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4bv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glVertexAttribI4sv ] ---
@@ -882,7 +909,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4sv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glVertexAttribI4ubv ] ---
@@ -902,7 +931,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4ubv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glVertexAttribI4usv ] ---
@@ -922,7 +953,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4usv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glVertexAttribIPointer ] ---
@@ -944,7 +977,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribIPointer">Reference Page</a>
      */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -961,7 +996,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribIPointer">Reference Page</a>
      */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -978,7 +1015,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribIPointer">Reference Page</a>
      */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -995,7 +1034,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribIPointer">Reference Page</a>
      */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glGetVertexAttribIiv ] ---
@@ -1016,7 +1057,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribIiv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1032,7 +1075,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribIiv(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1057,7 +1102,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribIuiv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1073,7 +1120,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribIuiv(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1152,7 +1201,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1uiv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glUniform2uiv ] ---
@@ -1173,7 +1224,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2uiv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glUniform3uiv ] ---
@@ -1194,7 +1247,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3uiv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glUniform4uiv ] ---
@@ -1215,7 +1270,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4uiv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glGetUniformuiv ] ---
@@ -1236,7 +1293,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformuiv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1252,7 +1311,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformuiv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1277,7 +1338,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindFragDataLocation(program, colorNumber, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -1294,7 +1357,9 @@ public class GL30C extends GL21C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindFragDataLocation(program, colorNumber, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1318,7 +1383,8 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetFragDataLocation(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nglGetFragDataLocation(program, memAddress(name)));
     }
 
     /**
@@ -1335,7 +1401,8 @@ public class GL30C extends GL21C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetFragDataLocation(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 25, __start, nglGetFragDataLocation(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1387,7 +1454,8 @@ public class GL30C extends GL21C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferRange(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access) {
-        long __result = nglMapBufferRange(target, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 26, __start, nglMapBufferRange(target, offset, length, access));
         return memByteBufferSafe(__result, (int)length);
     }
 
@@ -1411,7 +1479,8 @@ public class GL30C extends GL21C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferRange(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferRange(target, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 26, __start, nglMapBufferRange(target, offset, length, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -1481,7 +1550,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteRenderbuffers">Reference Page</a>
      */
     public static void glDeleteRenderbuffers(@NativeType("GLuint const *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteRenderbuffers(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -1493,7 +1564,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.ints(renderbuffer);
+            long __start = FunctionProfiler.start();
             nglDeleteRenderbuffers(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID + 27, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1516,7 +1589,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenRenderbuffers">Reference Page</a>
      */
     public static void glGenRenderbuffers(@NativeType("GLuint *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglGenRenderbuffers(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -1529,7 +1604,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenRenderbuffers(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID + 28, __start);
             return renderbuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1585,7 +1662,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetRenderbufferParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -1601,7 +1680,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetRenderbufferParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 29, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1649,7 +1730,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteFramebuffers">Reference Page</a>
      */
     public static void glDeleteFramebuffers(@NativeType("GLuint const *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteFramebuffers(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -1661,7 +1744,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.ints(framebuffer);
+            long __start = FunctionProfiler.start();
             nglDeleteFramebuffers(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 30, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1684,7 +1769,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenFramebuffers">Reference Page</a>
      */
     public static void glGenFramebuffers(@NativeType("GLuint *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglGenFramebuffers(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -1697,7 +1784,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenFramebuffers(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 31, __start);
             return framebuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1810,7 +1899,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFramebufferAttachmentParameteriv(target, attachment, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -1827,7 +1918,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFramebufferAttachmentParameteriv(target, attachment, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 32, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1883,7 +1976,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -1898,7 +1993,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 33, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1922,7 +2019,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIuiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -1937,7 +2036,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIuiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 34, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1961,7 +2062,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -1977,7 +2080,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2002,7 +2107,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIuiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2018,7 +2125,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIuiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 36, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2058,7 +2167,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBooleani_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -2074,7 +2185,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             ByteBuffer data = stack.calloc(1);
+            long __start = FunctionProfiler.start();
             nglGetBooleani_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 37, __start);
             return data.get(0) != 0;
         } finally {
             stack.setPointer(stackPointer);
@@ -2099,7 +2212,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegeri_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2115,7 +2230,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegeri_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 38, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2226,7 +2343,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTransformFeedbackVaryings">Reference Page</a>
      */
     public static void glTransformFeedbackVaryings(@NativeType("GLuint") int program, @NativeType("GLchar const **") PointerBuffer varyings, @NativeType("GLenum") int bufferMode) {
+        long __start = FunctionProfiler.start();
         nglTransformFeedbackVaryings(program, varyings.remaining(), memAddress(varyings), bufferMode);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2242,7 +2361,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long varyingsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, varyings);
+            long __start = FunctionProfiler.start();
             nglTransformFeedbackVaryings(program, varyings.length, varyingsAddress, bufferMode);
+            FunctionProfiler.end(PROFILE_ID + 39, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(varyingsAddress, varyings.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -2261,7 +2382,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long varyingsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, varying);
+            long __start = FunctionProfiler.start();
             nglTransformFeedbackVaryings(program, 1, varyingsAddress, bufferMode);
+            FunctionProfiler.end(PROFILE_ID + 39, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(varyingsAddress, 1);
         } finally {
             stack.setPointer(stackPointer);
@@ -2295,7 +2418,9 @@ public class GL30C extends GL21C {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbackVarying(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2319,7 +2444,9 @@ public class GL30C extends GL21C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbackVarying(program, index, bufSize, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 40, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -2369,7 +2496,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteVertexArrays">Reference Page</a>
      */
     public static void glDeleteVertexArrays(@NativeType("GLuint const *") IntBuffer arrays) {
+        long __start = FunctionProfiler.start();
         nglDeleteVertexArrays(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2381,7 +2510,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.ints(array);
+            long __start = FunctionProfiler.start();
             nglDeleteVertexArrays(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID + 41, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2404,7 +2535,9 @@ public class GL30C extends GL21C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenVertexArrays">Reference Page</a>
      */
     public static void glGenVertexArrays(@NativeType("GLuint *") IntBuffer arrays) {
+        long __start = FunctionProfiler.start();
         nglGenVertexArrays(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2417,7 +2550,9 @@ public class GL30C extends GL21C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenVertexArrays(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID + 42, __start);
             return arrays.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2447,7 +2582,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2461,7 +2598,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(value, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2475,7 +2614,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -2489,7 +2630,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -2503,7 +2646,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -2517,7 +2662,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -2531,7 +2678,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -2545,7 +2694,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -2559,7 +2710,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2573,7 +2726,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -2587,7 +2742,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -2601,7 +2758,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2615,7 +2774,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2629,7 +2790,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -2643,7 +2806,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -2656,7 +2821,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2669,7 +2836,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2682,7 +2851,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2695,7 +2866,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -2709,7 +2882,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -2722,7 +2897,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -2735,7 +2912,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2749,7 +2928,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2762,7 +2943,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2775,7 +2958,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2789,7 +2974,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachment, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2803,7 +2990,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2817,7 +3006,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2831,7 +3022,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -2845,7 +3038,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2859,7 +3054,9 @@ public class GL30C extends GL21C {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2875,7 +3072,9 @@ public class GL30C extends GL21C {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2888,7 +3087,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2901,7 +3102,9 @@ public class GL30C extends GL21C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
 }
\ No newline at end of file
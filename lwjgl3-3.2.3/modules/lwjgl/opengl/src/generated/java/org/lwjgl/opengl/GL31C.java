@@ -164,6 +164,8 @@ public class GL31C extends GL30C {
     /** Returned by GetActiveUniformsiv and GetUniformBlockIndex. */
     public static final int GL_INVALID_INDEX = 0xFFFFFFFF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL31C.class, "glDrawElementsInstanced,glGetUniformIndices,glGetActiveUniformsiv,glGetActiveUniformName,glGetUniformBlockIndex,glGetActiveUniformBlockiv,glGetActiveUniformBlockName");
+
     static { GL.initialize(); }
 
     protected GL31C() {
@@ -206,7 +208,9 @@ public class GL31C extends GL30C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstanced">Reference Page</a>
      */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, count, type, indices, primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -220,7 +224,9 @@ public class GL31C extends GL30C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstanced">Reference Page</a>
      */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -233,7 +239,9 @@ public class GL31C extends GL30C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstanced">Reference Page</a>
      */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -246,7 +254,9 @@ public class GL31C extends GL30C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstanced">Reference Page</a>
      */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -259,7 +269,9 @@ public class GL31C extends GL30C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstanced">Reference Page</a>
      */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glCopyBufferSubData ] ---
@@ -353,7 +365,9 @@ public class GL31C extends GL30C {
         if (CHECKS) {
             check(uniformIndices, uniformNames.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformIndices(program, uniformNames.remaining(), memAddress(uniformNames), memAddress(uniformIndices));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -372,7 +386,9 @@ public class GL31C extends GL30C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long uniformNamesAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, uniformNames);
+            long __start = FunctionProfiler.start();
             nglGetUniformIndices(program, uniformNames.length, uniformNamesAddress, memAddress(uniformIndices));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(uniformNamesAddress, uniformNames.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -392,7 +408,9 @@ public class GL31C extends GL30C {
         try {
             long uniformNamesAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, uniformName);
             IntBuffer uniformIndices = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformIndices(program, 1, uniformNamesAddress, memAddress(uniformIndices));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(uniformNamesAddress, 1);
             return uniformIndices.get(0);
         } finally {
@@ -423,7 +441,9 @@ public class GL31C extends GL30C {
         if (CHECKS) {
             check(params, uniformIndices.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformsiv(program, uniformIndices.remaining(), memAddress(uniformIndices), pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -440,7 +460,9 @@ public class GL31C extends GL30C {
         try {
             IntBuffer params = stack.callocInt(1);
             IntBuffer uniformIndices = stack.ints(uniformIndex);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformsiv(program, 1, memAddress(uniformIndices), pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -470,7 +492,9 @@ public class GL31C extends GL30C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformName(program, uniformIndex, uniformName.remaining(), memAddressSafe(length), memAddress(uniformName));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -488,7 +512,9 @@ public class GL31C extends GL30C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer uniformName = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformName(program, uniformIndex, bufSize, memAddress(length), memAddress(uniformName));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return memASCII(uniformName, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -526,7 +552,8 @@ public class GL31C extends GL30C {
         if (CHECKS) {
             checkNT1(uniformBlockName);
         }
-        return nglGetUniformBlockIndex(program, memAddress(uniformBlockName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nglGetUniformBlockIndex(program, memAddress(uniformBlockName)));
     }
 
     /**
@@ -543,7 +570,8 @@ public class GL31C extends GL30C {
         try {
             stack.nASCII(uniformBlockName, true);
             long uniformBlockNameEncoded = stack.getPointerAddress();
-            return nglGetUniformBlockIndex(program, uniformBlockNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 4, __start, nglGetUniformBlockIndex(program, uniformBlockNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -568,7 +596,9 @@ public class GL31C extends GL30C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformBlockiv(program, uniformBlockIndex, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -585,7 +615,9 @@ public class GL31C extends GL30C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformBlockiv(program, uniformBlockIndex, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -615,7 +647,9 @@ public class GL31C extends GL30C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformBlockName(program, uniformBlockIndex, uniformBlockName.remaining(), memAddressSafe(length), memAddress(uniformBlockName));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -633,7 +667,9 @@ public class GL31C extends GL30C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer uniformBlockName = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformBlockName(program, uniformBlockIndex, bufSize, memAddress(length), memAddress(uniformBlockName));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return memASCII(uniformBlockName, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -677,7 +713,9 @@ public class GL31C extends GL30C {
             check(__functionAddress);
             check(uniformIndices, uniformNames.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformNames.remaining(), memAddress(uniformNames), uniformIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -691,7 +729,9 @@ public class GL31C extends GL30C {
             check(__functionAddress);
             check(params, uniformIndices.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformIndices.length, uniformIndices, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -705,7 +745,9 @@ public class GL31C extends GL30C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformIndex, uniformName.remaining(), length, memAddress(uniformName), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -719,7 +761,9 @@ public class GL31C extends GL30C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, uniformBlockIndex, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -733,7 +777,9 @@ public class GL31C extends GL30C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformBlockIndex, uniformBlockName.remaining(), length, memAddress(uniformBlockName), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
@@ -192,6 +192,8 @@ public class GL32C extends GL31C {
         GL_CONDITION_SATISFIED = 0x911C,
         GL_WAIT_FAILED         = 0x911D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL32C.class, "glGetBufferParameteri64v,glDrawElementsBaseVertex,glDrawRangeElementsBaseVertex,glDrawElementsInstancedBaseVertex,glMultiDrawElementsBaseVertex,glGetMultisamplefv,glIsSync,glDeleteSync,glClientWaitSync,glWaitSync,glGetInteger64v,glGetInteger64i_v,glGetSynciv");
+
     static { GL.initialize(); }
 
     protected GL32C() {
@@ -216,7 +218,9 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferParameteri64v(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -232,7 +236,9 @@ public class GL32C extends GL31C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferParameteri64v(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -261,7 +267,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -275,7 +283,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -288,7 +298,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -301,7 +313,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -314,7 +328,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glDrawRangeElementsBaseVertex ] ---
@@ -341,7 +357,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -357,7 +375,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -372,7 +392,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -387,7 +409,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ShortBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -402,7 +426,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawRangeElementsBaseVertex">Reference Page</a>
      */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") IntBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glDrawElementsInstancedBaseVertex ] ---
@@ -428,7 +454,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, count, type, indices, primcount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -443,7 +471,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), primcount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -457,7 +487,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), primcount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -471,7 +503,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), primcount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -485,7 +519,9 @@ public class GL32C extends GL31C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertex">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), primcount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glMultiDrawElementsBaseVertex ] ---
@@ -515,7 +551,9 @@ public class GL32C extends GL31C {
             check(indices, count.remaining());
             check(basevertex, count.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsBaseVertex(mode, memAddress(count), type, memAddress(indices), count.remaining(), memAddress(basevertex));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glProvokingVertex ] ---
@@ -584,7 +622,9 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultisamplefv(pname, index, memAddress(val));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -600,7 +640,9 @@ public class GL32C extends GL31C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer val = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMultisamplefv(pname, index, memAddress(val));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return val.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -664,7 +706,8 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(sync);
         }
-        return nglIsSync(sync);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nglIsSync(sync));
     }
 
     // --- [ glDeleteSync ] ---
@@ -683,7 +726,9 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(sync);
         }
+        long __start = FunctionProfiler.start();
         nglDeleteSync(sync);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glClientWaitSync ] ---
@@ -715,7 +760,8 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(sync);
         }
-        return nglClientWaitSync(sync, flags, timeout);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nglClientWaitSync(sync, flags, timeout));
     }
 
     // --- [ glWaitSync ] ---
@@ -742,7 +788,9 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(sync);
         }
+        long __start = FunctionProfiler.start();
         nglWaitSync(sync, flags, timeout);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glGetInteger64v ] ---
@@ -762,7 +810,9 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetInteger64v(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -777,7 +827,9 @@ public class GL32C extends GL31C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetInteger64v(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -802,7 +854,9 @@ public class GL32C extends GL31C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetInteger64i_v(pname, index, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -818,7 +872,9 @@ public class GL32C extends GL31C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetInteger64i_v(pname, index, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -849,7 +905,9 @@ public class GL32C extends GL31C {
             check(sync);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSynciv(sync, pname, values.remaining(), memAddressSafe(length), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -870,7 +928,9 @@ public class GL32C extends GL31C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer values = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSynciv(sync, pname, 1, memAddressSafe(length), memAddress(values));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return values.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -888,7 +948,9 @@ public class GL32C extends GL31C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -903,7 +965,9 @@ public class GL32C extends GL31C {
             check(indices, count.length);
             check(basevertex, count.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(mode, count, type, memAddress(indices), count.length, basevertex, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -917,7 +981,9 @@ public class GL32C extends GL31C {
             check(__functionAddress);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -931,7 +997,9 @@ public class GL32C extends GL31C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -945,7 +1013,9 @@ public class GL32C extends GL31C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -960,7 +1030,9 @@ public class GL32C extends GL31C {
             check(sync);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(sync, pname, values.length, length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
 }
\ No newline at end of file
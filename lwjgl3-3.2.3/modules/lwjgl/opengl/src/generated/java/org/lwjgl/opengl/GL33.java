@@ -87,6 +87,8 @@ public class GL33 extends GL32 {
      */
     public static final int GL_INT_2_10_10_10_REV = 0x8D9F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL33.class, "glVertexP2uiv,glVertexP3uiv,glVertexP4uiv,glTexCoordP1uiv,glTexCoordP2uiv,glTexCoordP3uiv,glTexCoordP4uiv,glMultiTexCoordP1uiv,glMultiTexCoordP2uiv,glMultiTexCoordP3uiv,glMultiTexCoordP4uiv,glNormalP3uiv,glColorP3uiv,glColorP4uiv,glSecondaryColorP3uiv");
+
     static { GL.initialize(); }
 
     protected GL33() {
@@ -658,7 +660,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexP2uiv(type, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertexP3uiv ] ---
@@ -678,7 +682,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexP3uiv(type, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glVertexP4uiv ] ---
@@ -698,7 +704,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexP4uiv(type, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glTexCoordP1ui ] ---
@@ -766,7 +774,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoordP1uiv(type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glTexCoordP2uiv ] ---
@@ -786,7 +796,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoordP2uiv(type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glTexCoordP3uiv ] ---
@@ -806,7 +818,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoordP3uiv(type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glTexCoordP4uiv ] ---
@@ -826,7 +840,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoordP4uiv(type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glMultiTexCoordP1ui ] ---
@@ -899,7 +915,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordP1uiv(texture, type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glMultiTexCoordP2uiv ] ---
@@ -920,7 +938,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordP2uiv(texture, type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glMultiTexCoordP3uiv ] ---
@@ -941,7 +961,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordP3uiv(texture, type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glMultiTexCoordP4uiv ] ---
@@ -962,7 +984,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoordP4uiv(texture, type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glNormalP3ui ] ---
@@ -994,7 +1018,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         nglNormalP3uiv(type, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glColorP3ui ] ---
@@ -1038,7 +1064,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(color, 1);
         }
+        long __start = FunctionProfiler.start();
         nglColorP3uiv(type, memAddress(color));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glColorP4uiv ] ---
@@ -1058,7 +1086,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(color, 1);
         }
+        long __start = FunctionProfiler.start();
         nglColorP4uiv(type, memAddress(color));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glSecondaryColorP3ui ] ---
@@ -1090,7 +1120,9 @@ public class GL33 extends GL32 {
         if (CHECKS) {
             check(color, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColorP3uiv(type, memAddress(color));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glVertexAttribP1ui ] ---
@@ -1360,7 +1392,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1374,7 +1408,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1388,7 +1424,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1402,7 +1440,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1416,7 +1456,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1430,7 +1472,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1444,7 +1488,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1458,7 +1504,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1472,7 +1520,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1486,7 +1536,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1500,7 +1552,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1514,7 +1568,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(coords, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1528,7 +1584,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(color, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, color, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1542,7 +1600,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(color, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, color, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1556,7 +1616,9 @@ public class GL33 extends GL32 {
             check(__functionAddress);
             check(color, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(type, color, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
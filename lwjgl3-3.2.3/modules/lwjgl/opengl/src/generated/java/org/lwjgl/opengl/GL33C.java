@@ -88,6 +88,8 @@ public class GL33C extends GL32C {
      */
     public static final int GL_INT_2_10_10_10_REV = 0x8D9F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL33C.class, "glBindFragDataLocationIndexed,glGetFragDataIndex,glGenSamplers,glDeleteSamplers,glSamplerParameteriv,glSamplerParameterfv,glSamplerParameterIiv,glSamplerParameterIuiv,glGetSamplerParameteriv,glGetSamplerParameterfv,glGetSamplerParameterIiv,glGetSamplerParameterIuiv,glGetQueryObjecti64v,glGetQueryObjectui64v,glVertexAttribP1uiv,glVertexAttribP2uiv,glVertexAttribP3uiv,glVertexAttribP4uiv");
+
     static { GL.initialize(); }
 
     protected GL33C() {
@@ -113,7 +115,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindFragDataLocationIndexed(program, colorNumber, index, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -131,7 +135,9 @@ public class GL33C extends GL32C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindFragDataLocationIndexed(program, colorNumber, index, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -155,7 +161,8 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetFragDataIndex(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nglGetFragDataIndex(program, memAddress(name)));
     }
 
     /**
@@ -172,7 +179,8 @@ public class GL33C extends GL32C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetFragDataIndex(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, nglGetFragDataIndex(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -195,7 +203,9 @@ public class GL33C extends GL32C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenSamplers">Reference Page</a>
      */
     public static void glGenSamplers(@NativeType("GLuint *") IntBuffer samplers) {
+        long __start = FunctionProfiler.start();
         nglGenSamplers(samplers.remaining(), memAddress(samplers));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -208,7 +218,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer samplers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenSamplers(1, memAddress(samplers));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return samplers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -232,7 +244,9 @@ public class GL33C extends GL32C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteSamplers">Reference Page</a>
      */
     public static void glDeleteSamplers(@NativeType("GLuint const *") IntBuffer samplers) {
+        long __start = FunctionProfiler.start();
         nglDeleteSamplers(samplers.remaining(), memAddress(samplers));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -244,7 +258,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer samplers = stack.ints(sampler);
+            long __start = FunctionProfiler.start();
             nglDeleteSamplers(1, memAddress(samplers));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -318,7 +334,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameteriv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glSamplerParameterfv ] ---
@@ -339,7 +357,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterfv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glSamplerParameterIiv ] ---
@@ -360,7 +380,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glSamplerParameterIuiv ] ---
@@ -381,7 +403,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIuiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glGetSamplerParameteriv ] ---
@@ -402,7 +426,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameteriv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -418,7 +444,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameteriv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -443,7 +471,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterfv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -459,7 +489,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterfv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -484,7 +516,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -500,7 +534,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIiv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -525,7 +561,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIuiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -541,7 +579,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIuiv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -578,7 +618,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjecti64v(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -594,7 +636,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjecti64v(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -619,7 +663,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectui64v(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -635,7 +681,9 @@ public class GL33C extends GL32C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectui64v(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -729,7 +777,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribP1uiv(index, type, normalized, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glVertexAttribP2uiv ] ---
@@ -751,7 +801,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribP2uiv(index, type, normalized, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glVertexAttribP3uiv ] ---
@@ -773,7 +825,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribP3uiv(index, type, normalized, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glVertexAttribP4uiv ] ---
@@ -795,7 +849,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribP4uiv(index, type, normalized, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -808,7 +864,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(samplers.length, samplers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -821,7 +879,9 @@ public class GL33C extends GL32C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(samplers.length, samplers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -835,7 +895,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -849,7 +911,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -863,7 +927,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -877,7 +943,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -891,7 +959,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -905,7 +975,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -919,7 +991,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -933,7 +1007,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -947,7 +1023,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -961,7 +1039,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -975,7 +1055,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, type, normalized, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -989,7 +1071,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, type, normalized, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1003,7 +1087,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, type, normalized, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1017,7 +1103,9 @@ public class GL33C extends GL32C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, type, normalized, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
 }
\ No newline at end of file
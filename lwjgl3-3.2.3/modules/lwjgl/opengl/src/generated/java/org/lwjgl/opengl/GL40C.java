@@ -193,6 +193,8 @@ public class GL40C extends GL33C {
         GL_MAX_TRANSFORM_FEEDBACK_BUFFERS = 0x8E70,
         GL_MAX_VERTEX_STREAMS             = 0x8E71;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL40C.class, "glDrawArraysIndirect,glDrawElementsIndirect,glUniform1dv,glUniform2dv,glUniform3dv,glUniform4dv,glUniformMatrix2dv,glUniformMatrix3dv,glUniformMatrix4dv,glUniformMatrix2x3dv,glUniformMatrix2x4dv,glUniformMatrix3x2dv,glUniformMatrix3x4dv,glUniformMatrix4x2dv,glUniformMatrix4x3dv,glGetUniformdv,glGetSubroutineUniformLocation,glGetSubroutineIndex,glGetActiveSubroutineUniformiv,glGetActiveSubroutineUniformName,glGetActiveSubroutineName,glUniformSubroutinesuiv,glGetUniformSubroutineuiv,glGetProgramStageiv,glPatchParameterfv,glDeleteTransformFeedbacks,glGenTransformFeedbacks,glGetQueryIndexediv");
+
     static { GL.initialize(); }
 
     protected GL40C() {
@@ -285,7 +287,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(indirect, 4 * 4);
         }
+        long __start = FunctionProfiler.start();
         nglDrawArraysIndirect(mode, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -313,7 +317,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawArraysIndirect">Reference Page</a>
      */
     public static void glDrawArraysIndirect(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect) {
+        long __start = FunctionProfiler.start();
         nglDrawArraysIndirect(mode, indirect);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -344,7 +350,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(indirect, (4 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglDrawArraysIndirect(mode, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glDrawElementsIndirect ] ---
@@ -395,7 +403,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(indirect, 5 * 4);
         }
+        long __start = FunctionProfiler.start();
         nglDrawElementsIndirect(mode, type, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -438,7 +448,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsIndirect">Reference Page</a>
      */
     public static void glDrawElementsIndirect(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsIndirect(mode, type, indirect);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -484,7 +496,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(indirect, (5 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglDrawElementsIndirect(mode, type, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniform1d ] ---
@@ -559,7 +573,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1dv(@NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1dv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glUniform2dv ] ---
@@ -580,7 +596,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2dv(@NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2dv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniform3dv ] ---
@@ -601,7 +619,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3dv(@NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3dv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glUniform4dv ] ---
@@ -622,7 +642,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4dv(@NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4dv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glUniformMatrix2dv ] ---
@@ -644,7 +666,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2dv(location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glUniformMatrix3dv ] ---
@@ -666,7 +690,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3dv(location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glUniformMatrix4dv ] ---
@@ -688,7 +714,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4dv(location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glUniformMatrix2x3dv ] ---
@@ -710,7 +738,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2x3dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x3dv(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glUniformMatrix2x4dv ] ---
@@ -732,7 +762,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2x4dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x4dv(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glUniformMatrix3x2dv ] ---
@@ -754,7 +786,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3x2dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x2dv(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glUniformMatrix3x4dv ] ---
@@ -776,7 +810,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3x4dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x4dv(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glUniformMatrix4x2dv ] ---
@@ -798,7 +834,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4x2dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x2dv(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glUniformMatrix4x3dv ] ---
@@ -820,7 +858,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4x3dv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x3dv(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glGetUniformdv ] ---
@@ -841,7 +881,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformdv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -857,7 +899,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformdv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -894,7 +938,8 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetSubroutineUniformLocation(program, shadertype, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nglGetSubroutineUniformLocation(program, shadertype, memAddress(name)));
     }
 
     /**
@@ -912,7 +957,8 @@ public class GL40C extends GL33C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetSubroutineUniformLocation(program, shadertype, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 16, __start, nglGetSubroutineUniformLocation(program, shadertype, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -937,7 +983,8 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetSubroutineIndex(program, shadertype, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetSubroutineIndex(program, shadertype, memAddress(name)));
     }
 
     /**
@@ -955,7 +1002,8 @@ public class GL40C extends GL33C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetSubroutineIndex(program, shadertype, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetSubroutineIndex(program, shadertype, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -981,7 +1029,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveSubroutineUniformiv(program, shadertype, index, pname, memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -999,7 +1049,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer values = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetActiveSubroutineUniformiv(program, shadertype, index, pname, memAddress(values));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return values.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1030,7 +1082,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveSubroutineUniformName(program, shadertype, index, name.remaining(), memAddressSafe(length), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1049,7 +1103,9 @@ public class GL40C extends GL33C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufsize);
+            long __start = FunctionProfiler.start();
             nglGetActiveSubroutineUniformName(program, shadertype, index, bufsize, memAddress(length), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1094,7 +1150,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveSubroutineName(program, shadertype, index, name.remaining(), memAddressSafe(length), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1113,7 +1171,9 @@ public class GL40C extends GL33C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufsize);
+            long __start = FunctionProfiler.start();
             nglGetActiveSubroutineName(program, shadertype, index, bufsize, memAddress(length), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1152,7 +1212,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniformSubroutines">Reference Page</a>
      */
     public static void glUniformSubroutinesuiv(@NativeType("GLenum") int shadertype, @NativeType("GLuint const *") IntBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglUniformSubroutinesuiv(shadertype, indices.remaining(), memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1166,7 +1228,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer indices = stack.ints(index);
+            long __start = FunctionProfiler.start();
             nglUniformSubroutinesuiv(shadertype, 1, memAddress(indices));
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1190,7 +1254,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformSubroutineuiv(shadertype, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -1206,7 +1272,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformSubroutineuiv(shadertype, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 22, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1232,7 +1300,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramStageiv(program, shadertype, pname, memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1249,7 +1319,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer values = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramStageiv(program, shadertype, pname, memAddress(values));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return values.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1287,7 +1359,9 @@ public class GL40C extends GL33C {
                 check(values, GL11.glGetInteger(GL_PATCH_VERTICES));
             }
         }
+        long __start = FunctionProfiler.start();
         nglPatchParameterfv(pname, memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glBindTransformFeedback ] ---
@@ -1319,7 +1393,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteTransformFeedbacks">Reference Page</a>
      */
     public static void glDeleteTransformFeedbacks(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteTransformFeedbacks(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -1331,7 +1407,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteTransformFeedbacks(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1354,7 +1432,9 @@ public class GL40C extends GL33C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenTransformFeedbacks">Reference Page</a>
      */
     public static void glGenTransformFeedbacks(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglGenTransformFeedbacks(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -1367,7 +1447,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenTransformFeedbacks(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 26, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1485,7 +1567,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryIndexediv(target, index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -1502,7 +1586,9 @@ public class GL40C extends GL33C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryIndexediv(target, index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 27, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1520,7 +1606,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(indirect, (4 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, indirect, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1534,7 +1622,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(indirect, (5 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, type, indirect, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1547,7 +1637,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1560,7 +1652,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1573,7 +1667,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1586,7 +1682,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1599,7 +1697,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1612,7 +1712,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1625,7 +1727,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1638,7 +1742,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1651,7 +1757,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1664,7 +1772,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1677,7 +1787,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1690,7 +1802,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1703,7 +1817,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1717,7 +1833,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1731,7 +1849,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, shadertype, index, pname, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1745,7 +1865,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, shadertype, index, name.remaining(), length, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1759,7 +1881,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, shadertype, index, name.remaining(), length, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1772,7 +1896,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(shadertype, indices.length, indices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1786,7 +1912,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(shadertype, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -1800,7 +1928,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(values, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, shadertype, pname, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1816,7 +1946,9 @@ public class GL40C extends GL33C {
                 check(values, GL11.glGetInteger(GL_PATCH_VERTICES));
             }
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -1829,7 +1961,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -1842,7 +1976,9 @@ public class GL40C extends GL33C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -1856,7 +1992,9 @@ public class GL40C extends GL33C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
 }
\ No newline at end of file
@@ -102,6 +102,8 @@ public class GL41C extends GL40C {
     /** Returned in the {@code data} parameter from a Get query with a {@code pname} of LAYER_PROVOKING_VERTEX or VIEWPORT_INDEX_PROVOKING_VERTEX. */
     public static final int GL_UNDEFINED_VERTEX = 0x8260;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL41C.class, "glShaderBinary,glGetShaderPrecisionFormat,glGetProgramBinary,glProgramBinary,glCreateShaderProgramv,glDeleteProgramPipelines,glGenProgramPipelines,glGetProgramPipelineiv,glProgramUniform1iv,glProgramUniform2iv,glProgramUniform3iv,glProgramUniform4iv,glProgramUniform1uiv,glProgramUniform2uiv,glProgramUniform3uiv,glProgramUniform4uiv,glProgramUniform1fv,glProgramUniform2fv,glProgramUniform3fv,glProgramUniform4fv,glProgramUniform1dv,glProgramUniform2dv,glProgramUniform3dv,glProgramUniform4dv,glProgramUniformMatrix2fv,glProgramUniformMatrix3fv,glProgramUniformMatrix4fv,glProgramUniformMatrix2dv,glProgramUniformMatrix3dv,glProgramUniformMatrix4dv,glProgramUniformMatrix2x3fv,glProgramUniformMatrix3x2fv,glProgramUniformMatrix2x4fv,glProgramUniformMatrix4x2fv,glProgramUniformMatrix3x4fv,glProgramUniformMatrix4x3fv,glProgramUniformMatrix2x3dv,glProgramUniformMatrix3x2dv,glProgramUniformMatrix2x4dv,glProgramUniformMatrix4x2dv,glProgramUniformMatrix3x4dv,glProgramUniformMatrix4x3dv,glGetProgramPipelineInfoLog,glVertexAttribL1dv,glVertexAttribL2dv,glVertexAttribL3dv,glVertexAttribL4dv,glVertexAttribLPointer,glGetVertexAttribLdv,glViewportArrayv,glViewportIndexedfv,glScissorArrayv,glScissorIndexedv,glDepthRangeArrayv,glGetFloati_v,glGetDoublei_v");
+
     static { GL.initialize(); }
 
     protected GL41C() {
@@ -137,7 +139,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glShaderBinary">Reference Page</a>
      */
     public static void glShaderBinary(@NativeType("GLuint const *") IntBuffer shaders, @NativeType("GLenum") int binaryformat, @NativeType("void const *") ByteBuffer binary) {
+        long __start = FunctionProfiler.start();
         nglShaderBinary(shaders.remaining(), memAddress(shaders), binaryformat, memAddress(binary), binary.remaining());
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetShaderPrecisionFormat ] ---
@@ -160,7 +164,9 @@ public class GL41C extends GL40C {
             check(range, 2);
             check(precision, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderPrecisionFormat(shadertype, precisiontype, memAddress(range), memAddress(precision));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -180,7 +186,9 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer precision = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetShaderPrecisionFormat(shadertype, precisiontype, memAddress(range), memAddress(precision));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return precision.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -234,7 +242,9 @@ public class GL41C extends GL40C {
             checkSafe(length, 1);
             check(binaryFormat, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramBinary(program, binary.remaining(), memAddressSafe(length), memAddress(binaryFormat), memAddress(binary));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glProgramBinary ] ---
@@ -256,7 +266,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramBinary">Reference Page</a>
      */
     public static void glProgramBinary(@NativeType("GLuint") int program, @NativeType("GLenum") int binaryFormat, @NativeType("void const *") ByteBuffer binary) {
+        long __start = FunctionProfiler.start();
         nglProgramBinary(program, binaryFormat, memAddress(binary), binary.remaining());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glProgramParameteri ] ---
@@ -343,7 +355,8 @@ public class GL41C extends GL40C {
      */
     @NativeType("GLuint")
     public static int glCreateShaderProgramv(@NativeType("GLenum") int type, @NativeType("GLchar const **") PointerBuffer strings) {
-        return nglCreateShaderProgramv(type, strings.remaining(), memAddress(strings));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nglCreateShaderProgramv(type, strings.remaining(), memAddress(strings)));
     }
 
     /**
@@ -386,7 +399,8 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memUTF8, strings);
-            int __result = nglCreateShaderProgramv(type, strings.length, stringsAddress);
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nglCreateShaderProgramv(type, strings.length, stringsAddress));
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, strings.length);
             return __result;
         } finally {
@@ -433,7 +447,8 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memUTF8, string);
-            int __result = nglCreateShaderProgramv(type, 1, stringsAddress);
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nglCreateShaderProgramv(type, 1, stringsAddress));
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, 1);
             return __result;
         } finally {
@@ -469,7 +484,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteProgramPipelines">Reference Page</a>
      */
     public static void glDeleteProgramPipelines(@NativeType("GLuint const *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglDeleteProgramPipelines(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -481,7 +498,9 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.ints(pipeline);
+            long __start = FunctionProfiler.start();
             nglDeleteProgramPipelines(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -504,7 +523,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenProgramPipelines">Reference Page</a>
      */
     public static void glGenProgramPipelines(@NativeType("GLuint *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglGenProgramPipelines(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -517,7 +538,9 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenProgramPipelines(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return pipelines.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -554,7 +577,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramPipelineiv(pipeline, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -570,7 +595,9 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramPipelineiv(pipeline, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -828,7 +855,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform1iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1iv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glProgramUniform2iv ] ---
@@ -850,7 +879,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform2iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2iv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glProgramUniform3iv ] ---
@@ -872,7 +903,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform3iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3iv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glProgramUniform4iv ] ---
@@ -894,7 +927,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform4iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4iv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glProgramUniform1uiv ] ---
@@ -916,7 +951,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform1uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1uiv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glProgramUniform2uiv ] ---
@@ -938,7 +975,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform2uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2uiv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glProgramUniform3uiv ] ---
@@ -960,7 +999,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform3uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3uiv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glProgramUniform4uiv ] ---
@@ -982,7 +1023,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform4uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4uiv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glProgramUniform1fv ] ---
@@ -1004,7 +1047,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform1fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1fv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glProgramUniform2fv ] ---
@@ -1026,7 +1071,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2fv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glProgramUniform3fv ] ---
@@ -1048,7 +1095,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3fv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glProgramUniform4fv ] ---
@@ -1070,7 +1119,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4fv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glProgramUniform1dv ] ---
@@ -1092,7 +1143,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform1dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1dv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glProgramUniform2dv ] ---
@@ -1114,7 +1167,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform2dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2dv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glProgramUniform3dv ] ---
@@ -1136,7 +1191,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform3dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3dv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glProgramUniform4dv ] ---
@@ -1158,7 +1215,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniform4dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4dv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glProgramUniformMatrix2fv ] ---
@@ -1181,7 +1240,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2fv(program, location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glProgramUniformMatrix3fv ] ---
@@ -1204,7 +1265,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3fv(program, location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ glProgramUniformMatrix4fv ] ---
@@ -1227,7 +1290,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4fv(program, location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glProgramUniformMatrix2dv ] ---
@@ -1250,7 +1315,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix2dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2dv(program, location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glProgramUniformMatrix3dv ] ---
@@ -1273,7 +1340,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix3dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3dv(program, location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glProgramUniformMatrix4dv ] ---
@@ -1296,7 +1365,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix4dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4dv(program, location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glProgramUniformMatrix2x3fv ] ---
@@ -1319,7 +1390,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix2x3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x3fv(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glProgramUniformMatrix3x2fv ] ---
@@ -1342,7 +1415,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix3x2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x2fv(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glProgramUniformMatrix2x4fv ] ---
@@ -1365,7 +1440,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix2x4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x4fv(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glProgramUniformMatrix4x2fv ] ---
@@ -1388,7 +1465,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix4x2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x2fv(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ glProgramUniformMatrix3x4fv ] ---
@@ -1411,7 +1490,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix3x4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x4fv(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glProgramUniformMatrix4x3fv ] ---
@@ -1434,7 +1515,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix4x3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x3fv(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ glProgramUniformMatrix2x3dv ] ---
@@ -1457,7 +1540,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix2x3dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x3dv(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ glProgramUniformMatrix3x2dv ] ---
@@ -1480,7 +1565,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix3x2dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x2dv(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ glProgramUniformMatrix2x4dv ] ---
@@ -1503,7 +1590,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix2x4dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x4dv(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ glProgramUniformMatrix4x2dv ] ---
@@ -1526,7 +1615,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix4x2dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x2dv(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glProgramUniformMatrix3x4dv ] ---
@@ -1549,7 +1640,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix3x4dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x4dv(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ glProgramUniformMatrix4x3dv ] ---
@@ -1572,7 +1665,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glProgramUniform">Reference Page</a>
      */
     public static void glProgramUniformMatrix4x3dv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLdouble const *") DoubleBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x3dv(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ glValidateProgramPipeline ] ---
@@ -1608,7 +1703,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramPipelineInfoLog(pipeline, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -1625,7 +1722,9 @@ public class GL41C extends GL40C {
         ByteBuffer infoLog = memAlloc(bufSize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetProgramPipelineInfoLog(pipeline, bufSize, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 42, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -1716,7 +1815,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL1dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ glVertexAttribL2dv ] ---
@@ -1736,7 +1837,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL2dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ glVertexAttribL3dv ] ---
@@ -1756,7 +1859,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL3dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ glVertexAttribL4dv ] ---
@@ -1776,7 +1881,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL4dv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ glVertexAttribLPointer ] ---
@@ -1802,7 +1909,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribLPointer">Reference Page</a>
      */
     public static void glVertexAttribLPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribLPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -1819,7 +1928,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribLPointer">Reference Page</a>
      */
     public static void glVertexAttribLPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribLPointer(index, size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -1835,7 +1946,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribLPointer">Reference Page</a>
      */
     public static void glVertexAttribLPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLsizei") int stride, @NativeType("void const *") DoubleBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribLPointer(index, size, GL11.GL_DOUBLE, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ glGetVertexAttribLdv ] ---
@@ -1856,7 +1969,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribLdv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ glViewportArrayv ] ---
@@ -1877,7 +1992,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glViewportArrayv">Reference Page</a>
      */
     public static void glViewportArrayv(@NativeType("GLuint") int first, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglViewportArrayv(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ glViewportIndexedf ] ---
@@ -1912,7 +2029,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglViewportIndexedfv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ glScissorArrayv ] ---
@@ -1933,7 +2052,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glScissorArrayv">Reference Page</a>
      */
     public static void glScissorArrayv(@NativeType("GLuint") int first, @NativeType("GLint const *") IntBuffer v) {
+        long __start = FunctionProfiler.start();
         nglScissorArrayv(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ glScissorIndexed ] ---
@@ -1968,7 +2089,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglScissorIndexedv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     // --- [ glDepthRangeArrayv ] ---
@@ -1989,7 +2112,9 @@ public class GL41C extends GL40C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDepthRangeArrayv">Reference Page</a>
      */
     public static void glDepthRangeArrayv(@NativeType("GLuint") int first, @NativeType("GLdouble const *") DoubleBuffer v) {
+        long __start = FunctionProfiler.start();
         nglDepthRangeArrayv(first, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ glDepthRangeIndexed ] ---
@@ -2023,7 +2148,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloati_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -2039,7 +2166,9 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloati_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 54, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2064,7 +2193,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetDoublei_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -2080,7 +2211,9 @@ public class GL41C extends GL40C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer data = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetDoublei_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 55, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2097,7 +2230,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shaders.length, shaders, binaryformat, memAddress(binary), binary.remaining(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -2112,7 +2247,9 @@ public class GL41C extends GL40C {
             check(range, 2);
             check(precision, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shadertype, precisiontype, range, precision, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2127,7 +2264,9 @@ public class GL41C extends GL40C {
             checkSafe(length, 1);
             check(binaryFormat, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, binary.remaining(), length, binaryFormat, memAddress(binary), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2140,7 +2279,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -2153,7 +2294,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -2167,7 +2310,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipeline, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -2180,7 +2325,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -2193,7 +2340,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -2206,7 +2355,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -2219,7 +2370,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -2232,7 +2385,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -2245,7 +2400,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2258,7 +2415,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2271,7 +2430,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2284,7 +2445,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2297,7 +2460,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -2310,7 +2475,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -2323,7 +2490,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2336,7 +2505,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2349,7 +2520,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2362,7 +2535,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -2375,7 +2550,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -2388,7 +2565,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -2401,7 +2580,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -2414,7 +2595,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -2427,7 +2610,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -2440,7 +2625,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2453,7 +2640,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2466,7 +2655,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2479,7 +2670,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2492,7 +2685,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2505,7 +2700,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2518,7 +2715,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2531,7 +2730,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -2544,7 +2745,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2557,7 +2760,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -2570,7 +2775,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2583,7 +2790,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2596,7 +2805,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2609,7 +2820,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2623,7 +2836,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pipeline, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2637,7 +2852,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -2651,7 +2868,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -2665,7 +2884,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -2679,7 +2900,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -2693,7 +2916,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -2706,7 +2931,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -2720,7 +2947,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -2733,7 +2962,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -2747,7 +2978,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -2760,7 +2993,9 @@ public class GL41C extends GL40C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -2774,7 +3009,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -2788,7 +3025,9 @@ public class GL41C extends GL40C {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
 }
\ No newline at end of file
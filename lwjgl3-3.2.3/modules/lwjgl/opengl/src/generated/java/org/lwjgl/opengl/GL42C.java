@@ -208,6 +208,8 @@ public class GL42C extends GL41C {
     /** Accepted by the {@code pname} parameter of GetBooleanv, GetIntegerv, GetInteger64v, GetFloatv, and GetDoublev. */
     public static final int GL_MIN_MAP_BUFFER_ALIGNMENT = 0x90BC;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL42C.class, "glGetActiveAtomicCounterBufferiv,glDrawElementsInstancedBaseInstance,glDrawElementsInstancedBaseVertexBaseInstance,glGetInternalformativ");
+
     static { GL.initialize(); }
 
     protected GL42C() {
@@ -233,7 +235,9 @@ public class GL42C extends GL41C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveAtomicCounterBufferiv(program, bufferIndex, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -250,7 +254,9 @@ public class GL42C extends GL41C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetActiveAtomicCounterBufferiv(program, bufferIndex, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -367,7 +373,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseInstance(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseInstance(mode, count, type, indices, primcount, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -382,7 +390,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseInstance(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseInstance(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), primcount, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -396,7 +406,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseInstance(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseInstance(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), primcount, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -410,7 +422,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseInstance(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseInstance(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), primcount, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -424,7 +438,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseInstance(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseInstance(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), primcount, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glDrawElementsInstancedBaseVertexBaseInstance ] ---
@@ -451,7 +467,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertexBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertexBaseInstance(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexBaseInstance(mode, count, type, indices, primcount, basevertex, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -467,7 +485,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertexBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertexBaseInstance(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexBaseInstance(mode, indices.remaining() >> GLChecks.typeToByteShift(type), type, memAddress(indices), primcount, basevertex, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -482,7 +502,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertexBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertexBaseInstance(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexBaseInstance(mode, indices.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(indices), primcount, basevertex, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -497,7 +519,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertexBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertexBaseInstance(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexBaseInstance(mode, indices.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(indices), primcount, basevertex, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -512,7 +536,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElementsInstancedBaseVertexBaseInstance">Reference Page</a>
      */
     public static void glDrawElementsInstancedBaseVertexBaseInstance(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount, @NativeType("GLint") int basevertex, @NativeType("GLuint") int baseinstance) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexBaseInstance(mode, indices.remaining(), GL11.GL_UNSIGNED_INT, memAddress(indices), primcount, basevertex, baseinstance);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glBindImageTexture ] ---
@@ -563,7 +589,9 @@ public class GL42C extends GL41C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetInternalformat">Reference Page</a>
      */
     public static void glGetInternalformativ(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetInternalformativ(target, internalformat, pname, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -580,7 +608,9 @@ public class GL42C extends GL41C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetInternalformativ(target, internalformat, pname, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -598,7 +628,9 @@ public class GL42C extends GL41C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, bufferIndex, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -611,7 +643,9 @@ public class GL42C extends GL41C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, pname, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -446,6 +446,8 @@ public class GL43C extends GL42C {
         GL_MAX_VERTEX_ATTRIB_RELATIVE_OFFSET = 0x82D9,
         GL_MAX_VERTEX_ATTRIB_BINDINGS        = 0x82DA;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL43C.class, "glClearBufferData,glClearBufferSubData,glDebugMessageControl,glDebugMessageInsert,glDebugMessageCallback,glGetDebugMessageLog,glPushDebugGroup,glObjectLabel,glGetObjectLabel,glObjectPtrLabel,glGetObjectPtrLabel,glGetFramebufferParameteriv,glGetInternalformati64v,glInvalidateFramebuffer,glInvalidateSubFramebuffer,glMultiDrawArraysIndirect,glMultiDrawElementsIndirect,glGetProgramInterfaceiv,glGetProgramResourceIndex,glGetProgramResourceName,glGetProgramResourceiv,glGetProgramResourceLocation,glGetProgramResourceLocationIndex");
+
     static { GL.initialize(); }
 
     protected GL43C() {
@@ -471,7 +473,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearBufferData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferData(target, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -488,7 +492,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearBufferData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferData(target, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -505,7 +511,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearBufferData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferData(target, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -522,7 +530,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearBufferData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferData(target, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glClearBufferSubData ] ---
@@ -546,7 +556,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearBufferSubData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferSubData(target, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -565,7 +577,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearBufferSubData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferSubData(target, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -584,7 +598,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearBufferSubData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferSubData(target, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -603,7 +619,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearBufferSubData(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearBufferSubData(target, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glDispatchCompute ] ---
@@ -715,7 +733,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDebugMessageControl">Reference Page</a>
      */
     public static void glDebugMessageControl(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLenum") int severity, @Nullable @NativeType("GLuint const *") IntBuffer ids, @NativeType("GLboolean") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageControl(source, type, severity, remainingSafe(ids), memAddressSafe(ids), enabled);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -755,7 +775,9 @@ public class GL43C extends GL42C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDebugMessageControl(source, type, severity, 1, memAddress(ids), enabled);
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -791,7 +813,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDebugMessageInsert">Reference Page</a>
      */
     public static void glDebugMessageInsert(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLuint") int id, @NativeType("GLenum") int severity, @NativeType("GLchar const *") ByteBuffer message) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageInsert(source, type, id, severity, message.remaining(), memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -819,7 +843,9 @@ public class GL43C extends GL42C {
         try {
             int messageEncodedLength = stack.nUTF8(message, false);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglDebugMessageInsert(source, type, id, severity, messageEncodedLength, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -864,7 +890,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDebugMessageCallback">Reference Page</a>
      */
     public static void glDebugMessageCallback(@Nullable @NativeType("GLDEBUGPROC") GLDebugMessageCallbackI callback, @NativeType("void const *") long userParam) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageCallback(memAddressSafe(callback), userParam);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetDebugMessageLog ] ---
@@ -920,7 +948,8 @@ public class GL43C extends GL42C {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return nglGetDebugMessageLog(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nglGetDebugMessageLog(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog)));
     }
 
     // --- [ glPushDebugGroup ] ---
@@ -951,7 +980,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glPushDebugGroup">Reference Page</a>
      */
     public static void glPushDebugGroup(@NativeType("GLenum") int source, @NativeType("GLuint") int id, @NativeType("GLchar const *") ByteBuffer message) {
+        long __start = FunctionProfiler.start();
         nglPushDebugGroup(source, id, message.remaining(), memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -977,7 +1008,9 @@ public class GL43C extends GL42C {
         try {
             int messageEncodedLength = stack.nUTF8(message, false);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglPushDebugGroup(source, id, messageEncodedLength, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1017,7 +1050,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glObjectLabel">Reference Page</a>
      */
     public static void glObjectLabel(@NativeType("GLenum") int identifier, @NativeType("GLuint") int name, @NativeType("GLchar const *") ByteBuffer label) {
+        long __start = FunctionProfiler.start();
         nglObjectLabel(identifier, name, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1034,7 +1069,9 @@ public class GL43C extends GL42C {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglObjectLabel(identifier, name, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1063,7 +1100,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectLabel(identifier, name, label.remaining(), memAddressSafe(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1081,7 +1120,9 @@ public class GL43C extends GL42C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectLabel(identifier, name, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1122,7 +1163,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(ptr);
         }
+        long __start = FunctionProfiler.start();
         nglObjectPtrLabel(ptr, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1141,7 +1184,9 @@ public class GL43C extends GL42C {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglObjectPtrLabel(ptr, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1170,7 +1215,9 @@ public class GL43C extends GL42C {
             check(ptr);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectPtrLabel(ptr, label.remaining(), memAddressSafe(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1190,7 +1237,9 @@ public class GL43C extends GL42C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectPtrLabel(ptr, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1240,7 +1289,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFramebufferParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1256,7 +1307,9 @@ public class GL43C extends GL42C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFramebufferParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1283,7 +1336,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetInternalformat">Reference Page</a>
      */
     public static void glGetInternalformati64v(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int pname, @NativeType("GLint64 *") LongBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetInternalformati64v(target, internalformat, pname, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1300,7 +1355,9 @@ public class GL43C extends GL42C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetInternalformati64v(target, internalformat, pname, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1379,7 +1436,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glInvalidateFramebuffer">Reference Page</a>
      */
     public static void glInvalidateFramebuffer(@NativeType("GLenum") int target, @NativeType("GLenum const *") IntBuffer attachments) {
+        long __start = FunctionProfiler.start();
         nglInvalidateFramebuffer(target, attachments.remaining(), memAddress(attachments));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1393,7 +1452,9 @@ public class GL43C extends GL42C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglInvalidateFramebuffer(target, 1, memAddress(attachments));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1421,7 +1482,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glInvalidateSubFramebuffer">Reference Page</a>
      */
     public static void glInvalidateSubFramebuffer(@NativeType("GLenum") int target, @NativeType("GLenum const *") IntBuffer attachments, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
+        long __start = FunctionProfiler.start();
         nglInvalidateSubFramebuffer(target, attachments.remaining(), memAddress(attachments), x, y, width, height);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1439,7 +1502,9 @@ public class GL43C extends GL42C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglInvalidateSubFramebuffer(target, 1, memAddress(attachments), x, y, width, height);
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1486,7 +1551,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(indirect, drawcount * (stride == 0 ? (4 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirect(mode, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1522,7 +1589,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glMultiDrawArraysIndirect">Reference Page</a>
      */
     public static void glMultiDrawArraysIndirect(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect, @NativeType("GLsizei") int drawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirect(mode, indirect, drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1561,7 +1630,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(indirect, (drawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirect(mode, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glMultiDrawElementsIndirect ] ---
@@ -1607,7 +1678,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(indirect, drawcount * (stride == 0 ? (5 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirect(mode, type, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1645,7 +1718,9 @@ public class GL43C extends GL42C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glMultiDrawElementsIndirect">Reference Page</a>
      */
     public static void glMultiDrawElementsIndirect(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect, @NativeType("GLsizei") int drawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirect(mode, type, indirect, drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1686,7 +1761,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(indirect, (drawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirect(mode, type, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glGetProgramInterfaceiv ] ---
@@ -1708,7 +1785,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramInterfaceiv(program, programInterface, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1725,7 +1804,9 @@ public class GL43C extends GL42C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramInterfaceiv(program, programInterface, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1751,7 +1832,8 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetProgramResourceIndex(program, programInterface, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nglGetProgramResourceIndex(program, programInterface, memAddress(name)));
     }
 
     /**
@@ -1769,7 +1851,8 @@ public class GL43C extends GL42C {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetProgramResourceIndex(program, programInterface, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 18, __start, nglGetProgramResourceIndex(program, programInterface, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1799,7 +1882,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramResourceName(program, programInterface, index, name.remaining(), memAddressSafe(length), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1818,7 +1903,9 @@ public class GL43C extends GL42C {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetProgramResourceName(program, programInterface, index, bufSize, memAddress(length), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1865,7 +1952,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramResourceiv(program, programInterface, index, props.remaining(), memAddress(props), params.remaining(), memAddressSafe(length), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glGetProgramResourceLocation ] ---
@@ -1887,7 +1976,8 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetProgramResourceLocation(program, programInterface, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nglGetProgramResourceLocation(program, programInterface, memAddress(name)));
     }
 
     /**
@@ -1905,7 +1995,8 @@ public class GL43C extends GL42C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetProgramResourceLocation(program, programInterface, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 21, __start, nglGetProgramResourceLocation(program, programInterface, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1930,7 +2021,8 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetProgramResourceLocationIndex(program, programInterface, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nglGetProgramResourceLocationIndex(program, programInterface, memAddress(name)));
     }
 
     /**
@@ -1948,7 +2040,8 @@ public class GL43C extends GL42C {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetProgramResourceLocationIndex(program, programInterface, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 22, __start, nglGetProgramResourceLocationIndex(program, programInterface, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2127,7 +2220,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -2140,7 +2235,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -2153,7 +2250,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -2166,7 +2265,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2179,7 +2280,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2192,7 +2295,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2205,7 +2310,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(source, type, severity, lengthSafe(ids), ids, enabled, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2224,7 +2331,8 @@ public class GL43C extends GL42C {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress));
     }
 
     /**
@@ -2238,7 +2346,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(identifier, name, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -2253,7 +2363,9 @@ public class GL43C extends GL42C {
             check(ptr);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(ptr, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -2267,7 +2379,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -2280,7 +2394,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, pname, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -2293,7 +2409,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachments.length, attachments, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2306,7 +2424,9 @@ public class GL43C extends GL42C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachments.length, attachments, x, y, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2320,7 +2440,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             check(indirect, (drawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, indirect, drawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2334,7 +2456,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             check(indirect, (drawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, type, indirect, drawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2348,7 +2472,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, programInterface, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -2362,7 +2488,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, programInterface, index, name.remaining(), length, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2376,7 +2504,9 @@ public class GL43C extends GL42C {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, programInterface, index, props.length, props, params.length, length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
 }
\ No newline at end of file
@@ -101,6 +101,8 @@ public class GL44C extends GL43C {
      */
     public static final int GL_MIRROR_CLAMP_TO_EDGE = 0x8743;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL44C.class, "glBufferStorage,glClearTexSubImage,glClearTexImage,glBindBuffersBase,glBindBuffersRange,glBindTextures,glBindSamplers,glBindImageTextures,glBindVertexBuffers");
+
     static { GL.initialize(); }
 
     protected GL44C() {
@@ -168,7 +170,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glBufferStorage(@NativeType("GLenum") int target, @NativeType("GLsizeiptr") long size, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorage(target, size, NULL, flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -224,7 +228,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glBufferStorage(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorage(target, data.remaining(), memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -280,7 +286,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glBufferStorage(@NativeType("GLenum") int target, @NativeType("void const *") ShortBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorage(target, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -336,7 +344,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glBufferStorage(@NativeType("GLenum") int target, @NativeType("void const *") IntBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorage(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -392,7 +402,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glBufferStorage(@NativeType("GLenum") int target, @NativeType("void const *") FloatBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorage(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -448,7 +460,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glBufferStorage(@NativeType("GLenum") int target, @NativeType("void const *") DoubleBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorage(target, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glClearTexSubImage ] ---
@@ -487,7 +501,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexSubImage">Reference Page</a>
      */
     public static void glClearTexSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -521,7 +537,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexSubImage">Reference Page</a>
      */
     public static void glClearTexSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -555,7 +573,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexSubImage">Reference Page</a>
      */
     public static void glClearTexSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -589,7 +609,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexSubImage">Reference Page</a>
      */
     public static void glClearTexSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -623,7 +645,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexSubImage">Reference Page</a>
      */
     public static void glClearTexSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glClearTexImage ] ---
@@ -647,7 +671,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexImage">Reference Page</a>
      */
     public static void glClearTexImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexImage(texture, level, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -666,7 +692,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexImage">Reference Page</a>
      */
     public static void glClearTexImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexImage(texture, level, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -685,7 +713,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexImage">Reference Page</a>
      */
     public static void glClearTexImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexImage(texture, level, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -704,7 +734,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexImage">Reference Page</a>
      */
     public static void glClearTexImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexImage(texture, level, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -723,7 +755,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearTexImage">Reference Page</a>
      */
     public static void glClearTexImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearTexImage(texture, level, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glBindBuffersBase ] ---
@@ -758,7 +792,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindBuffersBase">Reference Page</a>
      */
     public static void glBindBuffersBase(@NativeType("GLenum") int target, @NativeType("GLuint") int first, @Nullable @NativeType("GLuint const *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglBindBuffersBase(target, first, remainingSafe(buffers), memAddressSafe(buffers));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glBindBuffersRange ] ---
@@ -805,7 +841,9 @@ public class GL44C extends GL43C {
             checkSafe(offsets, remainingSafe(buffers));
             checkSafe(sizes, remainingSafe(buffers));
         }
+        long __start = FunctionProfiler.start();
         nglBindBuffersRange(target, first, remainingSafe(buffers), memAddressSafe(buffers), memAddressSafe(offsets), memAddressSafe(sizes));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glBindTextures ] ---
@@ -859,7 +897,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindTextures">Reference Page</a>
      */
     public static void glBindTextures(@NativeType("GLuint") int first, @Nullable @NativeType("GLuint const *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglBindTextures(first, remainingSafe(textures), memAddressSafe(textures));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glBindSamplers ] ---
@@ -897,7 +937,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindSamplers">Reference Page</a>
      */
     public static void glBindSamplers(@NativeType("GLuint") int first, @Nullable @NativeType("GLuint const *") IntBuffer samplers) {
+        long __start = FunctionProfiler.start();
         nglBindSamplers(first, remainingSafe(samplers), memAddressSafe(samplers));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glBindImageTextures ] ---
@@ -946,7 +988,9 @@ public class GL44C extends GL43C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindImageTextures">Reference Page</a>
      */
     public static void glBindImageTextures(@NativeType("GLuint") int first, @Nullable @NativeType("GLuint const *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglBindImageTextures(first, remainingSafe(textures), memAddressSafe(textures));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glBindVertexBuffers ] ---
@@ -995,7 +1039,9 @@ public class GL44C extends GL43C {
             checkSafe(offsets, remainingSafe(buffers));
             checkSafe(strides, remainingSafe(buffers));
         }
+        long __start = FunctionProfiler.start();
         nglBindVertexBuffers(first, remainingSafe(buffers), memAddressSafe(buffers), memAddressSafe(offsets), memAddressSafe(strides));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1008,7 +1054,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 1, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1021,7 +1069,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1034,7 +1084,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1047,7 +1099,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 3, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1060,7 +1114,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1073,7 +1129,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1086,7 +1144,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1099,7 +1159,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1112,7 +1174,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1125,7 +1189,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1138,7 +1204,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1151,7 +1219,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1164,7 +1234,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, first, lengthSafe(buffers), buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1179,7 +1251,9 @@ public class GL44C extends GL43C {
             checkSafe(offsets, lengthSafe(buffers));
             checkSafe(sizes, lengthSafe(buffers));
         }
+        long __start = FunctionProfiler.start();
         callPPPV(target, first, lengthSafe(buffers), buffers, memAddressSafe(offsets), memAddressSafe(sizes), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -1192,7 +1266,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, lengthSafe(textures), textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1205,7 +1281,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, lengthSafe(samplers), samplers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1218,7 +1296,9 @@ public class GL44C extends GL43C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, lengthSafe(textures), textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1233,7 +1313,9 @@ public class GL44C extends GL43C {
             checkSafe(offsets, lengthSafe(buffers));
             checkSafe(strides, lengthSafe(buffers));
         }
+        long __start = FunctionProfiler.start();
         callPPPV(first, lengthSafe(buffers), buffers, memAddressSafe(offsets), strides, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
 }
\ No newline at end of file
@@ -95,6 +95,8 @@ public class GL45 extends GL44 {
     /** Returned by {@link GL11C#glGetError GetError}. */
     public static final int GL_CONTEXT_LOST = 0x507;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL45.class, "glGetnMapdv,glGetnMapfv,glGetnMapiv,glGetnPixelMapfv,glGetnPixelMapuiv,glGetnPixelMapusv,glGetnPolygonStipple,glGetnColorTable,glGetnConvolutionFilter,glGetnSeparableFilter,glGetnHistogram,glGetnMinmax");
+
     static { GL.initialize(); }
 
     protected GL45() {
@@ -3890,7 +3892,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetMap">Reference Page</a>
      */
     public static void glGetnMapdv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLdouble *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnMapdv(target, query, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -3906,7 +3910,9 @@ public class GL45 extends GL44 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer data = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetnMapdv(target, query, 1, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3932,7 +3938,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetMap">Reference Page</a>
      */
     public static void glGetnMapfv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLfloat *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnMapfv(target, query, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -3948,7 +3956,9 @@ public class GL45 extends GL44 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnMapfv(target, query, 1, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3974,7 +3984,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetMap">Reference Page</a>
      */
     public static void glGetnMapiv(@NativeType("GLenum") int target, @NativeType("GLenum") int query, @NativeType("GLint *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnMapiv(target, query, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -3990,7 +4002,9 @@ public class GL45 extends GL44 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnMapiv(target, query, 1, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -4015,7 +4029,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetPixelMap">Reference Page</a>
      */
     public static void glGetnPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnPixelMapfv(map, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetnPixelMapuiv ] ---
@@ -4036,7 +4052,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetPixelMap">Reference Page</a>
      */
     public static void glGetnPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnPixelMapuiv(map, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetnPixelMapusv ] ---
@@ -4057,7 +4075,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetPixelMap">Reference Page</a>
      */
     public static void glGetnPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetnPixelMapusv(map, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glGetnPolygonStipple ] ---
@@ -4078,7 +4098,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnPolygonStipple">Reference Page</a>
      */
     public static void glGetnPolygonStipple(@NativeType("GLsizei") int bufSize, @NativeType("GLubyte *") long pattern) {
+        long __start = FunctionProfiler.start();
         nglGetnPolygonStipple(bufSize, pattern);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -4089,7 +4111,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnPolygonStipple">Reference Page</a>
      */
     public static void glGetnPolygonStipple(@NativeType("GLubyte *") ByteBuffer pattern) {
+        long __start = FunctionProfiler.start();
         nglGetnPolygonStipple(pattern.remaining(), memAddress(pattern));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glGetnTexImage ] ---
@@ -4312,7 +4336,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnColorTable">Reference Page</a>
      */
     public static void glGetnColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTable(target, format, type, bufSize, table);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4326,7 +4352,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnColorTable">Reference Page</a>
      */
     public static void glGetnColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTable(target, format, type, table.remaining(), memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4340,7 +4368,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnColorTable">Reference Page</a>
      */
     public static void glGetnColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTable(target, format, type, table.remaining() << 1, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4354,7 +4384,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnColorTable">Reference Page</a>
      */
     public static void glGetnColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTable(target, format, type, table.remaining() << 2, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4368,7 +4400,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnColorTable">Reference Page</a>
      */
     public static void glGetnColorTable(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer table) {
+        long __start = FunctionProfiler.start();
         nglGetnColorTable(target, format, type, table.remaining() << 2, memAddress(table));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glGetnConvolutionFilter ] ---
@@ -4392,7 +4426,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnConvolutionFilter">Reference Page</a>
      */
     public static void glGetnConvolutionFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long image) {
+        long __start = FunctionProfiler.start();
         nglGetnConvolutionFilter(target, format, type, bufSize, image);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -4406,7 +4442,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnConvolutionFilter">Reference Page</a>
      */
     public static void glGetnConvolutionFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer image) {
+        long __start = FunctionProfiler.start();
         nglGetnConvolutionFilter(target, format, type, image.remaining(), memAddress(image));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glGetnSeparableFilter ] ---
@@ -4433,7 +4471,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnSeparableFilter">Reference Page</a>
      */
     public static void glGetnSeparableFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int rowBufSize, @NativeType("void *") long row, @NativeType("GLsizei") int columnBufSize, @NativeType("void *") long column, @Nullable @NativeType("void *") ByteBuffer span) {
+        long __start = FunctionProfiler.start();
         nglGetnSeparableFilter(target, format, type, rowBufSize, row, columnBufSize, column, memAddressSafe(span));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -4448,7 +4488,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnSeparableFilter">Reference Page</a>
      */
     public static void glGetnSeparableFilter(@NativeType("GLenum") int target, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer row, @NativeType("void *") ByteBuffer column, @Nullable @NativeType("void *") ByteBuffer span) {
+        long __start = FunctionProfiler.start();
         nglGetnSeparableFilter(target, format, type, row.remaining(), memAddress(row), column.remaining(), memAddress(column), memAddressSafe(span));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glGetnHistogram ] ---
@@ -4473,7 +4515,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnHistogram">Reference Page</a>
      */
     public static void glGetnHistogram(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long values) {
+        long __start = FunctionProfiler.start();
         nglGetnHistogram(target, reset, format, type, bufSize, values);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -4488,7 +4532,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnHistogram">Reference Page</a>
      */
     public static void glGetnHistogram(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer values) {
+        long __start = FunctionProfiler.start();
         nglGetnHistogram(target, reset, format, type, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glGetnMinmax ] ---
@@ -4514,7 +4560,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnMinmax">Reference Page</a>
      */
     public static void glGetnMinmax(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long values) {
+        long __start = FunctionProfiler.start();
         nglGetnMinmax(target, reset, format, type, bufSize, values);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -4530,7 +4578,9 @@ public class GL45 extends GL44 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnMinmax">Reference Page</a>
      */
     public static void glGetnMinmax(@NativeType("GLenum") int target, @NativeType("GLboolean") boolean reset, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer values) {
+        long __start = FunctionProfiler.start();
         nglGetnMinmax(target, reset, format, type, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glGetnCompressedTexImage ] ---
@@ -5503,7 +5553,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -5516,7 +5568,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -5529,7 +5583,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, query, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -5542,7 +5598,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -5555,7 +5613,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -5568,7 +5628,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(map, data.length, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -5644,7 +5706,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table.length << 1, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -5657,7 +5721,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table.length << 2, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -5670,7 +5736,9 @@ public class GL45 extends GL44 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, format, type, table.length << 2, table, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
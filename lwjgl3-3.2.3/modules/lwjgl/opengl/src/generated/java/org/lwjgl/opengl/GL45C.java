@@ -96,6 +96,8 @@ public class GL45C extends GL44C {
     /** Returned by {@link GL11C#glGetError GetError}. */
     public static final int GL_CONTEXT_LOST = 0x507;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL45C.class, "glCreateTransformFeedbacks,glGetTransformFeedbackiv,glGetTransformFeedbacki_v,glGetTransformFeedbacki64_v,glCreateBuffers,glNamedBufferStorage,glNamedBufferData,glNamedBufferSubData,glClearNamedBufferData,glClearNamedBufferSubData,glMapNamedBuffer,glMapNamedBufferRange,glGetNamedBufferParameteriv,glGetNamedBufferParameteri64v,glGetNamedBufferPointerv,glGetNamedBufferSubData,glCreateFramebuffers,glNamedFramebufferDrawBuffers,glInvalidateNamedFramebufferData,glInvalidateNamedFramebufferSubData,glClearNamedFramebufferiv,glClearNamedFramebufferuiv,glClearNamedFramebufferfv,glGetNamedFramebufferParameteriv,glGetNamedFramebufferAttachmentParameteriv,glCreateRenderbuffers,glGetNamedRenderbufferParameteriv,glCreateTextures,glTextureSubImage1D,glTextureSubImage2D,glTextureSubImage3D,glCompressedTextureSubImage1D,glCompressedTextureSubImage2D,glCompressedTextureSubImage3D,glTextureParameterfv,glTextureParameterIiv,glTextureParameterIuiv,glTextureParameteriv,glGetTextureImage,glGetCompressedTextureImage,glGetTextureLevelParameterfv,glGetTextureLevelParameteriv,glGetTextureParameterfv,glGetTextureParameterIiv,glGetTextureParameterIuiv,glGetTextureParameteriv,glCreateVertexArrays,glVertexArrayVertexBuffers,glGetVertexArrayiv,glGetVertexArrayIndexediv,glGetVertexArrayIndexed64iv,glCreateSamplers,glCreateProgramPipelines,glCreateQueries,glGetTextureSubImage,glGetCompressedTextureSubImage,glGetnTexImage,glReadnPixels,glGetnCompressedTexImage,glGetnUniformfv,glGetnUniformdv,glGetnUniformiv,glGetnUniformuiv");
+
     static { GL.initialize(); }
 
     protected GL45C() {
@@ -137,7 +139,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateTransformFeedbacks">Reference Page</a>
      */
     public static void glCreateTransformFeedbacks(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglCreateTransformFeedbacks(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -150,7 +154,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateTransformFeedbacks(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -203,7 +209,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbackiv(xfb, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -219,7 +227,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbackiv(xfb, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -245,7 +255,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbacki_v(xfb, pname, index, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -262,7 +274,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbacki_v(xfb, pname, index, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -288,7 +302,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbacki64_v(xfb, pname, index, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -305,7 +321,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer param = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbacki64_v(xfb, pname, index, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -330,7 +348,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateBuffers">Reference Page</a>
      */
     public static void glCreateBuffers(@NativeType("GLuint *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglCreateBuffers(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -344,7 +364,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateBuffers(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return buffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -405,7 +427,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glNamedBufferStorage(@NativeType("GLuint") int buffer, @NativeType("GLsizeiptr") long size, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorage(buffer, size, NULL, flags);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -454,7 +478,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glNamedBufferStorage(@NativeType("GLuint") int buffer, @NativeType("void const *") ByteBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorage(buffer, data.remaining(), memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -503,7 +529,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glNamedBufferStorage(@NativeType("GLuint") int buffer, @NativeType("void const *") ShortBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorage(buffer, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -552,7 +580,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glNamedBufferStorage(@NativeType("GLuint") int buffer, @NativeType("void const *") IntBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorage(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -601,7 +631,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glNamedBufferStorage(@NativeType("GLuint") int buffer, @NativeType("void const *") FloatBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorage(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -650,7 +682,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferStorage">Reference Page</a>
      */
     public static void glNamedBufferStorage(@NativeType("GLuint") int buffer, @NativeType("void const *") DoubleBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorage(buffer, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glNamedBufferData ] ---
@@ -671,7 +705,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, size, NULL, usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -683,7 +719,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("void const *") ByteBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, data.remaining(), memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -695,7 +733,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("void const *") ShortBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -707,7 +747,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("void const *") IntBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -719,7 +761,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("void const *") LongBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -731,7 +775,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("void const *") FloatBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -743,7 +789,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("void const *") DoubleBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferData(buffer, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glNamedBufferSubData ] ---
@@ -764,7 +812,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubData(buffer, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -776,7 +826,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -788,7 +840,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -800,7 +854,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") LongBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -812,7 +868,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -824,7 +882,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glCopyNamedBufferSubData ] ---
@@ -861,7 +921,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferData(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -878,7 +940,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferData(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -895,7 +959,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferData(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -912,7 +978,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferData">Reference Page</a>
      */
     public static void glClearNamedBufferData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferData(buffer, internalformat, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glClearNamedBufferSubData ] ---
@@ -936,7 +1004,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubData(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -955,7 +1025,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubData(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -974,7 +1046,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubData(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -993,7 +1067,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearBufferSubData">Reference Page</a>
      */
     public static void glClearNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLenum") int internalformat, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglClearNamedBufferSubData(buffer, internalformat, offset, size, format, type, memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glMapNamedBuffer ] ---
@@ -1012,7 +1088,8 @@ public class GL45C extends GL44C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBuffer(@NativeType("GLuint") int buffer, @NativeType("GLenum") int access) {
-        long __result = nglMapNamedBuffer(buffer, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, nglMapNamedBuffer(buffer, access));
         return memByteBufferSafe(__result, glGetNamedBufferParameteri(buffer, GL15.GL_BUFFER_SIZE));
     }
 
@@ -1027,7 +1104,8 @@ public class GL45C extends GL44C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBuffer(@NativeType("GLuint") int buffer, @NativeType("GLenum") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapNamedBuffer(buffer, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, nglMapNamedBuffer(buffer, access));
         int length = glGetNamedBufferParameteri(buffer, GL15.GL_BUFFER_SIZE);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -1043,7 +1121,8 @@ public class GL45C extends GL44C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBuffer(@NativeType("GLuint") int buffer, @NativeType("GLenum") int access, long length, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapNamedBuffer(buffer, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, nglMapNamedBuffer(buffer, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -1065,7 +1144,8 @@ public class GL45C extends GL44C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferRange(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access) {
-        long __result = nglMapNamedBufferRange(buffer, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 11, __start, nglMapNamedBufferRange(buffer, offset, length, access));
         return memByteBufferSafe(__result, (int)length);
     }
 
@@ -1082,7 +1162,8 @@ public class GL45C extends GL44C {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapNamedBufferRange(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapNamedBufferRange(buffer, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 11, __start, nglMapNamedBufferRange(buffer, offset, length, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -1129,7 +1210,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferParameteriv(buffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1145,7 +1228,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedBufferParameteriv(buffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1170,7 +1255,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferParameteri64v(buffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1186,7 +1273,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedBufferParameteri64v(buffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1211,7 +1300,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferPointerv(buffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1227,7 +1318,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedBufferPointerv(buffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1253,7 +1346,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubData(buffer, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1266,7 +1361,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1279,7 +1376,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1292,7 +1391,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") LongBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1305,7 +1406,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1318,7 +1421,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetNamedBufferSubData(@NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferSubData(buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glCreateFramebuffers ] ---
@@ -1338,7 +1443,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateFramebuffers">Reference Page</a>
      */
     public static void glCreateFramebuffers(@NativeType("GLuint *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglCreateFramebuffers(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1351,7 +1458,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateFramebuffers(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 16, __start);
             return framebuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1444,7 +1553,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glFramebufferDrawBuffers">Reference Page</a>
      */
     public static void glNamedFramebufferDrawBuffers(@NativeType("GLuint") int framebuffer, @NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglNamedFramebufferDrawBuffers(framebuffer, bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1458,7 +1569,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer bufs = stack.ints(buf);
+            long __start = FunctionProfiler.start();
             nglNamedFramebufferDrawBuffers(framebuffer, 1, memAddress(bufs));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1494,7 +1607,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glInvalidateFramebufferData">Reference Page</a>
      */
     public static void glInvalidateNamedFramebufferData(@NativeType("GLuint") int framebuffer, @NativeType("GLenum const *") IntBuffer attachments) {
+        long __start = FunctionProfiler.start();
         nglInvalidateNamedFramebufferData(framebuffer, attachments.remaining(), memAddress(attachments));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1508,7 +1623,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglInvalidateNamedFramebufferData(framebuffer, 1, memAddress(attachments));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1536,7 +1653,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glInvalidateFramebufferSubData">Reference Page</a>
      */
     public static void glInvalidateNamedFramebufferSubData(@NativeType("GLuint") int framebuffer, @NativeType("GLenum const *") IntBuffer attachments, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
+        long __start = FunctionProfiler.start();
         nglInvalidateNamedFramebufferSubData(framebuffer, attachments.remaining(), memAddress(attachments), x, y, width, height);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1554,7 +1673,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglInvalidateNamedFramebufferSubData(framebuffer, 1, memAddress(attachments), x, y, width, height);
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1580,7 +1701,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearNamedFramebufferiv(framebuffer, buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glClearNamedFramebufferuiv ] ---
@@ -1602,7 +1725,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(value, 4);
         }
+        long __start = FunctionProfiler.start();
         nglClearNamedFramebufferuiv(framebuffer, buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glClearNamedFramebufferfv ] ---
@@ -1625,7 +1750,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearNamedFramebufferfv(framebuffer, buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glClearNamedFramebufferfi ] ---
@@ -1696,7 +1823,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedFramebufferParameteriv(framebuffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1712,7 +1841,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedFramebufferParameteriv(framebuffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1738,7 +1869,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedFramebufferAttachmentParameteriv(framebuffer, attachment, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -1755,7 +1888,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedFramebufferAttachmentParameteriv(framebuffer, attachment, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1779,7 +1914,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateRenderbuffers">Reference Page</a>
      */
     public static void glCreateRenderbuffers(@NativeType("GLuint *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglCreateRenderbuffers(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -1792,7 +1929,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateRenderbuffers(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
             return renderbuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1843,7 +1982,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedRenderbufferParameteriv(renderbuffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -1858,7 +1999,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedRenderbufferParameteriv(renderbuffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 26, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1883,7 +2026,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateTextures">Reference Page</a>
      */
     public static void glCreateTextures(@NativeType("GLenum") int target, @NativeType("GLuint *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglCreateTextures(target, textures.remaining(), memAddress(textures));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -1898,7 +2043,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer textures = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateTextures(target, 1, memAddress(textures));
+            FunctionProfiler.end(PROFILE_ID + 27, __start);
             return textures.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2032,7 +2179,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage1D">Reference Page</a>
      */
     public static void glTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1D(texture, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2049,7 +2198,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage1D">Reference Page</a>
      */
     public static void glTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1D(texture, level, xoffset, width, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2066,7 +2217,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage1D">Reference Page</a>
      */
     public static void glTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1D(texture, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2083,7 +2236,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage1D">Reference Page</a>
      */
     public static void glTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1D(texture, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2100,7 +2255,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage1D">Reference Page</a>
      */
     public static void glTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1D(texture, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2117,7 +2274,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage1D">Reference Page</a>
      */
     public static void glTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage1D(texture, level, xoffset, width, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glTextureSubImage2D ] ---
@@ -2141,7 +2300,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage2D">Reference Page</a>
      */
     public static void glTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2160,7 +2321,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage2D">Reference Page</a>
      */
     public static void glTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2179,7 +2342,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage2D">Reference Page</a>
      */
     public static void glTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2198,7 +2363,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage2D">Reference Page</a>
      */
     public static void glTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2217,7 +2384,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage2D">Reference Page</a>
      */
     public static void glTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2236,7 +2405,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage2D">Reference Page</a>
      */
     public static void glTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glTextureSubImage3D ] ---
@@ -2262,7 +2433,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage3D">Reference Page</a>
      */
     public static void glTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2283,7 +2456,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage3D">Reference Page</a>
      */
     public static void glTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2304,7 +2479,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage3D">Reference Page</a>
      */
     public static void glTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2325,7 +2502,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage3D">Reference Page</a>
      */
     public static void glTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2346,7 +2525,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage3D">Reference Page</a>
      */
     public static void glTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2367,7 +2548,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTextureSubImage3D">Reference Page</a>
      */
     public static void glTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glCompressedTextureSubImage1D ] ---
@@ -2393,7 +2576,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTextureSubImage1D">Reference Page</a>
      */
     public static void glCompressedTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage1D(texture, level, xoffset, width, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2409,7 +2594,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTextureSubImage1D">Reference Page</a>
      */
     public static void glCompressedTextureSubImage1D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage1D(texture, level, xoffset, width, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glCompressedTextureSubImage2D ] ---
@@ -2437,7 +2624,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTextureSubImage2D">Reference Page</a>
      */
     public static void glCompressedTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2455,7 +2644,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTextureSubImage2D">Reference Page</a>
      */
     public static void glCompressedTextureSubImage2D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage2D(texture, level, xoffset, yoffset, width, height, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glCompressedTextureSubImage3D ] ---
@@ -2485,7 +2676,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTextureSubImage3D">Reference Page</a>
      */
     public static void glCompressedTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2505,7 +2698,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompressedTextureSubImage3D">Reference Page</a>
      */
     public static void glCompressedTextureSubImage3D(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTextureSubImage3D(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ glCopyTextureSubImage1D ] ---
@@ -2592,7 +2787,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterfv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glTextureParameteri ] ---
@@ -2626,7 +2823,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterIiv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -2641,7 +2840,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTextureParameterIiv(texture, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2665,7 +2866,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameterIuiv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2680,7 +2883,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTextureParameterIuiv(texture, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 36, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2704,7 +2909,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTextureParameteriv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ glGenerateTextureMipmap ] ---
@@ -2756,7 +2963,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureImage">Reference Page</a>
      */
     public static void glGetTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImage(texture, level, format, type, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2771,7 +2980,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureImage">Reference Page</a>
      */
     public static void glGetTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImage(texture, level, format, type, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2786,7 +2997,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureImage">Reference Page</a>
      */
     public static void glGetTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImage(texture, level, format, type, pixels.remaining() << 1, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2801,7 +3014,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureImage">Reference Page</a>
      */
     public static void glGetTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImage(texture, level, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2816,7 +3031,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureImage">Reference Page</a>
      */
     public static void glGetTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImage(texture, level, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2831,7 +3048,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureImage">Reference Page</a>
      */
     public static void glGetTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureImage(texture, level, format, type, pixels.remaining() << 3, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ glGetCompressedTextureImage ] ---
@@ -2854,7 +3073,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureImage">Reference Page</a>
      */
     public static void glGetCompressedTextureImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureImage(texture, level, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2872,7 +3093,9 @@ public class GL45C extends GL44C {
                 check(pixels, glGetTextureLevelParameteri(texture, level, GL13.GL_TEXTURE_COMPRESSED_IMAGE_SIZE));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureImage(texture, level, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glGetTextureLevelParameterfv ] ---
@@ -2894,7 +3117,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureLevelParameterfv(texture, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2911,7 +3136,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureLevelParameterfv(texture, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 40, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2937,7 +3164,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureLevelParameteriv(texture, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2954,7 +3183,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureLevelParameteriv(texture, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 41, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -2979,7 +3210,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterfv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2995,7 +3228,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterfv(texture, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 42, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3020,7 +3255,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterIiv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -3036,7 +3273,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterIiv(texture, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 43, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3061,7 +3300,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameterIuiv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -3077,7 +3318,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameterIuiv(texture, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 44, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3102,7 +3345,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTextureParameteriv(texture, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -3118,7 +3363,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTextureParameteriv(texture, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 45, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3142,7 +3389,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateVertexArrays">Reference Page</a>
      */
     public static void glCreateVertexArrays(@NativeType("GLuint *") IntBuffer arrays) {
+        long __start = FunctionProfiler.start();
         nglCreateVertexArrays(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -3155,7 +3404,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateVertexArrays(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID + 46, __start);
             return arrays.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3238,7 +3489,9 @@ public class GL45C extends GL44C {
             checkSafe(offsets, remainingSafe(buffers));
             checkSafe(strides, remainingSafe(buffers));
         }
+        long __start = FunctionProfiler.start();
         nglVertexArrayVertexBuffers(vaobj, first, remainingSafe(buffers), memAddressSafe(buffers), memAddressSafe(offsets), memAddressSafe(strides));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ glVertexArrayAttribFormat ] ---
@@ -3332,7 +3585,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayiv(vaobj, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -3348,7 +3603,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayiv(vaobj, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 48, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3374,7 +3631,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayIndexediv(vaobj, index, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -3391,7 +3650,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer param = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayIndexediv(vaobj, index, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 49, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3417,7 +3678,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexArrayIndexed64iv(vaobj, index, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -3434,7 +3697,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer param = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexArrayIndexed64iv(vaobj, index, pname, memAddress(param));
+            FunctionProfiler.end(PROFILE_ID + 50, __start);
             return param.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3458,7 +3723,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateSamplers">Reference Page</a>
      */
     public static void glCreateSamplers(@NativeType("GLuint *") IntBuffer samplers) {
+        long __start = FunctionProfiler.start();
         nglCreateSamplers(samplers.remaining(), memAddress(samplers));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -3471,7 +3738,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer samplers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateSamplers(1, memAddress(samplers));
+            FunctionProfiler.end(PROFILE_ID + 51, __start);
             return samplers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3495,7 +3764,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateProgramPipelines">Reference Page</a>
      */
     public static void glCreateProgramPipelines(@NativeType("GLuint *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglCreateProgramPipelines(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -3508,7 +3779,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateProgramPipelines(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 52, __start);
             return pipelines.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3533,7 +3806,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCreateQueries">Reference Page</a>
      */
     public static void glCreateQueries(@NativeType("GLenum") int target, @NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglCreateQueries(target, ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -3548,7 +3823,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateQueries(target, 1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 53, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -3662,7 +3939,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureSubImage">Reference Page</a>
      */
     public static void glGetTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3683,7 +3962,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureSubImage">Reference Page</a>
      */
     public static void glGetTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3704,7 +3985,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureSubImage">Reference Page</a>
      */
     public static void glGetTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.remaining() << 1, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3725,7 +4008,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureSubImage">Reference Page</a>
      */
     public static void glGetTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3746,7 +4031,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureSubImage">Reference Page</a>
      */
     public static void glGetTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -3767,7 +4054,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTextureSubImage">Reference Page</a>
      */
     public static void glGetTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.remaining() << 3, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ glGetCompressedTextureSubImage ] ---
@@ -3796,7 +4085,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureSubImage">Reference Page</a>
      */
     public static void glGetCompressedTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -3815,7 +4106,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureSubImage">Reference Page</a>
      */
     public static void glGetCompressedTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -3834,7 +4127,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureSubImage">Reference Page</a>
      */
     public static void glGetCompressedTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.remaining() << 1, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -3853,7 +4148,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureSubImage">Reference Page</a>
      */
     public static void glGetCompressedTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -3872,7 +4169,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureSubImage">Reference Page</a>
      */
     public static void glGetCompressedTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -3891,7 +4190,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetCompressedTextureSubImage">Reference Page</a>
      */
     public static void glGetCompressedTextureSubImage(@NativeType("GLuint") int texture, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("void *") DoubleBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglGetCompressedTextureSubImage(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.remaining() << 3, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ glTextureBarrier ] ---
@@ -3967,7 +4268,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnTexImage">Reference Page</a>
      */
     public static void glGetnTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImage(tex, level, format, type, bufSize, img);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -3982,7 +4285,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnTexImage">Reference Page</a>
      */
     public static void glGetnTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImage(tex, level, format, type, img.remaining(), memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -3997,7 +4302,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnTexImage">Reference Page</a>
      */
     public static void glGetnTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImage(tex, level, format, type, img.remaining() << 1, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -4012,7 +4319,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnTexImage">Reference Page</a>
      */
     public static void glGetnTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImage(tex, level, format, type, img.remaining() << 2, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -4027,7 +4336,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnTexImage">Reference Page</a>
      */
     public static void glGetnTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImage(tex, level, format, type, img.remaining() << 2, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -4042,7 +4353,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnTexImage">Reference Page</a>
      */
     public static void glGetnTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer img) {
+        long __start = FunctionProfiler.start();
         nglGetnTexImage(tex, level, format, type, img.remaining() << 3, memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ glReadnPixels ] ---
@@ -4069,7 +4382,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -4086,7 +4401,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -4103,7 +4420,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining() << 1, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -4120,7 +4439,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -4137,7 +4458,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ glGetnCompressedTexImage ] ---
@@ -4160,7 +4483,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetnCompressedTexImage">Reference Page</a>
      */
     public static void glGetnCompressedTexImage(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLsizei") int bufSize, @NativeType("void *") long img) {
+        long __start = FunctionProfiler.start();
         nglGetnCompressedTexImage(target, level, bufSize, img);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     /**
@@ -4178,7 +4503,9 @@ public class GL45C extends GL44C {
                 check(img, GL11.glGetTexLevelParameteri(target, level, GL13.GL_TEXTURE_COMPRESSED_IMAGE_SIZE));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetnCompressedTexImage(target, level, img.remaining(), memAddress(img));
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     // --- [ glGetnUniformfv ] ---
@@ -4200,7 +4527,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformfv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformfv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -4216,7 +4545,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformfv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 59, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -4242,7 +4573,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformdv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLdouble *") DoubleBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformdv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     /**
@@ -4258,7 +4591,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             DoubleBuffer params = stack.callocDouble(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformdv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 60, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -4284,7 +4619,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformiv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /**
@@ -4300,7 +4637,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformiv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 61, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -4326,7 +4665,9 @@ public class GL45C extends GL44C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformuiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformuiv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     /**
@@ -4342,7 +4683,9 @@ public class GL45C extends GL44C {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformuiv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 62, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -4359,7 +4702,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -4373,7 +4718,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(xfb, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -4387,7 +4734,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(xfb, pname, index, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -4401,7 +4750,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(xfb, pname, index, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -4414,7 +4765,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -4427,7 +4780,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 1, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -4440,7 +4795,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -4453,7 +4810,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -4466,7 +4825,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 3, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -4479,7 +4840,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 1, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -4492,7 +4855,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -4505,7 +4870,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 3, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -4518,7 +4885,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -4531,7 +4900,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 3, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -4544,7 +4915,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4557,7 +4930,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4570,7 +4945,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4583,7 +4960,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4596,7 +4975,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -4609,7 +4990,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -4622,7 +5005,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -4635,7 +5020,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, internalformat, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -4648,7 +5035,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -4661,7 +5050,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -4674,7 +5065,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, internalformat, offset, size, format, type, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -4688,7 +5081,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -4702,7 +5097,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -4715,7 +5112,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -4728,7 +5127,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -4741,7 +5142,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -4754,7 +5157,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -4767,7 +5172,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -4780,7 +5187,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -4793,7 +5202,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -4806,7 +5217,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, attachments.length, attachments, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -4819,7 +5232,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, attachments.length, attachments, x, y, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -4833,7 +5248,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -4847,7 +5264,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(value, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -4861,7 +5280,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -4875,7 +5296,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -4889,7 +5312,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, attachment, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -4902,7 +5327,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -4916,7 +5343,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(renderbuffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -4929,7 +5358,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, textures.length, textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -4942,7 +5373,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -4955,7 +5388,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -4968,7 +5403,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -4981,7 +5418,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, width, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -4994,7 +5433,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -5007,7 +5448,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -5020,7 +5463,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -5033,7 +5478,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -5046,7 +5493,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -5059,7 +5508,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -5072,7 +5523,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -5085,7 +5538,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -5099,7 +5554,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -5113,7 +5570,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -5127,7 +5586,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -5141,7 +5602,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -5154,7 +5617,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, pixels.length << 1, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -5167,7 +5632,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -5180,7 +5647,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -5193,7 +5662,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, format, type, pixels.length << 3, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -5207,7 +5678,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -5221,7 +5694,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -5235,7 +5710,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -5249,7 +5726,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -5263,7 +5742,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -5277,7 +5758,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -5290,7 +5773,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -5305,7 +5790,9 @@ public class GL45C extends GL44C {
             checkSafe(offsets, lengthSafe(buffers));
             checkSafe(strides, lengthSafe(buffers));
         }
+        long __start = FunctionProfiler.start();
         callPPPV(vaobj, first, lengthSafe(buffers), buffers, memAddressSafe(offsets), strides, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -5319,7 +5806,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(vaobj, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -5333,7 +5822,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(vaobj, index, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -5347,7 +5838,9 @@ public class GL45C extends GL44C {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(vaobj, index, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -5360,7 +5853,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(samplers.length, samplers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -5373,7 +5868,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -5386,7 +5883,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -5399,7 +5898,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.length << 1, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -5412,7 +5913,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -5425,7 +5928,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -5438,7 +5943,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels.length << 3, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -5451,7 +5958,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.length << 1, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -5464,7 +5973,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -5477,7 +5988,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -5490,7 +6003,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, level, xoffset, yoffset, zoffset, width, height, depth, pixels.length << 3, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -5503,7 +6018,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 1, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -5516,7 +6033,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 2, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -5529,7 +6048,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 2, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -5542,7 +6063,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tex, level, format, type, img.length << 3, img, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -5555,7 +6078,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 1, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -5568,7 +6093,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -5581,7 +6108,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -5594,7 +6123,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -5607,7 +6138,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     /**
@@ -5620,7 +6153,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /**
@@ -5633,7 +6168,9 @@ public class GL45C extends GL44C {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
 }
\ No newline at end of file
@@ -94,6 +94,8 @@ public class GL46C extends GL45C {
         GL_TRANSFORM_FEEDBACK_OVERFLOW        = 0x82EC,
         GL_TRANSFORM_FEEDBACK_STREAM_OVERFLOW = 0x82ED;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GL46C.class, "glMultiDrawArraysIndirectCount,glMultiDrawElementsIndirectCount,glSpecializeShader");
+
     static { GL.initialize(); }
 
     protected GL46C() {
@@ -124,7 +126,9 @@ public class GL46C extends GL45C {
         if (CHECKS) {
             check(indirect, maxdrawcount * (stride == 0 ? (4 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectCount(mode, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -143,7 +147,9 @@ public class GL46C extends GL45C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glMultiDrawArraysIndirectCount">Reference Page</a>
      */
     public static void glMultiDrawArraysIndirectCount(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect, @NativeType("GLintptr") long drawcount, @NativeType("GLsizei") int maxdrawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectCount(mode, indirect, drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -165,7 +171,9 @@ public class GL46C extends GL45C {
         if (CHECKS) {
             check(indirect, (maxdrawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectCount(mode, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElementsIndirectCount ] ---
@@ -193,7 +201,9 @@ public class GL46C extends GL45C {
         if (CHECKS) {
             check(indirect, maxdrawcount * (stride == 0 ? (5 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectCount(mode, type, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -213,7 +223,9 @@ public class GL46C extends GL45C {
      * @see <a target="_blank" href="http://docs.gl/gl4/glMultiDrawElementsIndirectCount">Reference Page</a>
      */
     public static void glMultiDrawElementsIndirectCount(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect, @NativeType("GLintptr") long drawcount, @NativeType("GLsizei") int maxdrawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectCount(mode, type, indirect, drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -236,7 +248,9 @@ public class GL46C extends GL45C {
         if (CHECKS) {
             check(indirect, (maxdrawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectCount(mode, type, memAddress(indirect), drawcount, maxdrawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glPolygonOffsetClamp ] ---
@@ -306,7 +320,9 @@ public class GL46C extends GL45C {
             checkNT1(pEntryPoint);
             check(pConstantValue, pConstantIndex.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglSpecializeShader(shader, memAddress(pEntryPoint), pConstantIndex.remaining(), memAddress(pConstantIndex), memAddress(pConstantValue));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -349,7 +365,9 @@ public class GL46C extends GL45C {
         try {
             stack.nUTF8(pEntryPoint, true);
             long pEntryPointEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglSpecializeShader(shader, pEntryPointEncoded, pConstantIndex.remaining(), memAddress(pConstantIndex), memAddress(pConstantValue));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -366,7 +384,9 @@ public class GL46C extends GL45C {
             check(__functionAddress);
             check(indirect, (maxdrawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, indirect, drawcount, maxdrawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -380,7 +400,9 @@ public class GL46C extends GL45C {
             check(__functionAddress);
             check(indirect, (maxdrawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, type, indirect, drawcount, maxdrawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -395,7 +417,9 @@ public class GL46C extends GL45C {
             checkNT1(pEntryPoint);
             check(pConstantValue, pConstantIndex.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(shader, memAddress(pEntryPoint), pConstantIndex.length, pConstantIndex, pConstantValue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -413,7 +437,9 @@ public class GL46C extends GL45C {
         try {
             stack.nUTF8(pEntryPoint, true);
             long pEntryPointEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             callPPPV(shader, pEntryPointEncoded, pConstantIndex.length, pConstantIndex, pConstantValue, __functionAddress);
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -8,6 +8,8 @@ package org.lwjgl.opengl;
 import org.lwjgl.system.*;
 import java.util.Set;
 import org.lwjgl.*;
+import java.util.Arrays;
+import javax.annotation.*;
 
 import static org.lwjgl.system.APIUtil.*;
 import static org.lwjgl.system.MemoryUtil.*;
@@ -4190,2220 +4192,2226 @@ public final class GLCapabilities {
     /** Off-heap array of the above function addresses. */
     final PointerBuffer addresses;
 
-    GLCapabilities(FunctionProvider provider, Set<String> ext, boolean fc) {
+    /** The first instance with compatible function addresses. Assigned by {@link GL#setCapabilities}. */
+    @Nullable
+    GLCapabilities compatibilityClass;
+
+    GLCapabilities(FunctionProvider provider, Set<String> ext, boolean fc, boolean supportedOnly) {
         forwardCompatible = fc;
 
-        glAccum = getFunctionAddress(fc, provider, "glAccum");
-        glAlphaFunc = getFunctionAddress(fc, provider, "glAlphaFunc");
-        glAreTexturesResident = getFunctionAddress(fc, provider, "glAreTexturesResident");
-        glArrayElement = getFunctionAddress(fc, provider, "glArrayElement");
-        glBegin = getFunctionAddress(fc, provider, "glBegin");
-        glBitmap = getFunctionAddress(fc, provider, "glBitmap");
-        glCallList = getFunctionAddress(fc, provider, "glCallList");
-        glCallLists = getFunctionAddress(fc, provider, "glCallLists");
-        glClearAccum = getFunctionAddress(fc, provider, "glClearAccum");
-        glClearIndex = getFunctionAddress(fc, provider, "glClearIndex");
-        glClipPlane = getFunctionAddress(fc, provider, "glClipPlane");
-        glColor3b = getFunctionAddress(fc, provider, "glColor3b");
-        glColor3s = getFunctionAddress(fc, provider, "glColor3s");
-        glColor3i = getFunctionAddress(fc, provider, "glColor3i");
-        glColor3f = getFunctionAddress(fc, provider, "glColor3f");
-        glColor3d = getFunctionAddress(fc, provider, "glColor3d");
-        glColor3ub = getFunctionAddress(fc, provider, "glColor3ub");
-        glColor3us = getFunctionAddress(fc, provider, "glColor3us");
-        glColor3ui = getFunctionAddress(fc, provider, "glColor3ui");
-        glColor3bv = getFunctionAddress(fc, provider, "glColor3bv");
-        glColor3sv = getFunctionAddress(fc, provider, "glColor3sv");
-        glColor3iv = getFunctionAddress(fc, provider, "glColor3iv");
-        glColor3fv = getFunctionAddress(fc, provider, "glColor3fv");
-        glColor3dv = getFunctionAddress(fc, provider, "glColor3dv");
-        glColor3ubv = getFunctionAddress(fc, provider, "glColor3ubv");
-        glColor3usv = getFunctionAddress(fc, provider, "glColor3usv");
-        glColor3uiv = getFunctionAddress(fc, provider, "glColor3uiv");
-        glColor4b = getFunctionAddress(fc, provider, "glColor4b");
-        glColor4s = getFunctionAddress(fc, provider, "glColor4s");
-        glColor4i = getFunctionAddress(fc, provider, "glColor4i");
-        glColor4f = getFunctionAddress(fc, provider, "glColor4f");
-        glColor4d = getFunctionAddress(fc, provider, "glColor4d");
-        glColor4ub = getFunctionAddress(fc, provider, "glColor4ub");
-        glColor4us = getFunctionAddress(fc, provider, "glColor4us");
-        glColor4ui = getFunctionAddress(fc, provider, "glColor4ui");
-        glColor4bv = getFunctionAddress(fc, provider, "glColor4bv");
-        glColor4sv = getFunctionAddress(fc, provider, "glColor4sv");
-        glColor4iv = getFunctionAddress(fc, provider, "glColor4iv");
-        glColor4fv = getFunctionAddress(fc, provider, "glColor4fv");
-        glColor4dv = getFunctionAddress(fc, provider, "glColor4dv");
-        glColor4ubv = getFunctionAddress(fc, provider, "glColor4ubv");
-        glColor4usv = getFunctionAddress(fc, provider, "glColor4usv");
-        glColor4uiv = getFunctionAddress(fc, provider, "glColor4uiv");
-        glColorMaterial = getFunctionAddress(fc, provider, "glColorMaterial");
-        glColorPointer = getFunctionAddress(fc, provider, "glColorPointer");
-        glCopyPixels = getFunctionAddress(fc, provider, "glCopyPixels");
-        glDeleteLists = getFunctionAddress(fc, provider, "glDeleteLists");
-        glDisableClientState = provider.getFunctionAddress("glDisableClientState");
-        glDrawPixels = getFunctionAddress(fc, provider, "glDrawPixels");
-        glEdgeFlag = getFunctionAddress(fc, provider, "glEdgeFlag");
-        glEdgeFlagv = getFunctionAddress(fc, provider, "glEdgeFlagv");
-        glEdgeFlagPointer = getFunctionAddress(fc, provider, "glEdgeFlagPointer");
-        glEnableClientState = provider.getFunctionAddress("glEnableClientState");
-        glEnd = getFunctionAddress(fc, provider, "glEnd");
-        glEvalCoord1f = getFunctionAddress(fc, provider, "glEvalCoord1f");
-        glEvalCoord1fv = getFunctionAddress(fc, provider, "glEvalCoord1fv");
-        glEvalCoord1d = getFunctionAddress(fc, provider, "glEvalCoord1d");
-        glEvalCoord1dv = getFunctionAddress(fc, provider, "glEvalCoord1dv");
-        glEvalCoord2f = getFunctionAddress(fc, provider, "glEvalCoord2f");
-        glEvalCoord2fv = getFunctionAddress(fc, provider, "glEvalCoord2fv");
-        glEvalCoord2d = getFunctionAddress(fc, provider, "glEvalCoord2d");
-        glEvalCoord2dv = getFunctionAddress(fc, provider, "glEvalCoord2dv");
-        glEvalMesh1 = getFunctionAddress(fc, provider, "glEvalMesh1");
-        glEvalMesh2 = getFunctionAddress(fc, provider, "glEvalMesh2");
-        glEvalPoint1 = getFunctionAddress(fc, provider, "glEvalPoint1");
-        glEvalPoint2 = getFunctionAddress(fc, provider, "glEvalPoint2");
-        glFeedbackBuffer = getFunctionAddress(fc, provider, "glFeedbackBuffer");
-        glFogi = getFunctionAddress(fc, provider, "glFogi");
-        glFogiv = getFunctionAddress(fc, provider, "glFogiv");
-        glFogf = getFunctionAddress(fc, provider, "glFogf");
-        glFogfv = getFunctionAddress(fc, provider, "glFogfv");
-        glGenLists = getFunctionAddress(fc, provider, "glGenLists");
-        glGetClipPlane = getFunctionAddress(fc, provider, "glGetClipPlane");
-        glGetLightiv = getFunctionAddress(fc, provider, "glGetLightiv");
-        glGetLightfv = getFunctionAddress(fc, provider, "glGetLightfv");
-        glGetMapiv = getFunctionAddress(fc, provider, "glGetMapiv");
-        glGetMapfv = getFunctionAddress(fc, provider, "glGetMapfv");
-        glGetMapdv = getFunctionAddress(fc, provider, "glGetMapdv");
-        glGetMaterialiv = getFunctionAddress(fc, provider, "glGetMaterialiv");
-        glGetMaterialfv = getFunctionAddress(fc, provider, "glGetMaterialfv");
-        glGetPixelMapfv = getFunctionAddress(fc, provider, "glGetPixelMapfv");
-        glGetPixelMapusv = getFunctionAddress(fc, provider, "glGetPixelMapusv");
-        glGetPixelMapuiv = getFunctionAddress(fc, provider, "glGetPixelMapuiv");
-        glGetPolygonStipple = getFunctionAddress(fc, provider, "glGetPolygonStipple");
-        glGetTexEnviv = getFunctionAddress(fc, provider, "glGetTexEnviv");
-        glGetTexEnvfv = getFunctionAddress(fc, provider, "glGetTexEnvfv");
-        glGetTexGeniv = getFunctionAddress(fc, provider, "glGetTexGeniv");
-        glGetTexGenfv = getFunctionAddress(fc, provider, "glGetTexGenfv");
-        glGetTexGendv = getFunctionAddress(fc, provider, "glGetTexGendv");
-        glIndexi = getFunctionAddress(fc, provider, "glIndexi");
-        glIndexub = getFunctionAddress(fc, provider, "glIndexub");
-        glIndexs = getFunctionAddress(fc, provider, "glIndexs");
-        glIndexf = getFunctionAddress(fc, provider, "glIndexf");
-        glIndexd = getFunctionAddress(fc, provider, "glIndexd");
-        glIndexiv = getFunctionAddress(fc, provider, "glIndexiv");
-        glIndexubv = getFunctionAddress(fc, provider, "glIndexubv");
-        glIndexsv = getFunctionAddress(fc, provider, "glIndexsv");
-        glIndexfv = getFunctionAddress(fc, provider, "glIndexfv");
-        glIndexdv = getFunctionAddress(fc, provider, "glIndexdv");
-        glIndexMask = getFunctionAddress(fc, provider, "glIndexMask");
-        glIndexPointer = getFunctionAddress(fc, provider, "glIndexPointer");
-        glInitNames = getFunctionAddress(fc, provider, "glInitNames");
-        glInterleavedArrays = getFunctionAddress(fc, provider, "glInterleavedArrays");
-        glIsList = getFunctionAddress(fc, provider, "glIsList");
-        glLightModeli = getFunctionAddress(fc, provider, "glLightModeli");
-        glLightModelf = getFunctionAddress(fc, provider, "glLightModelf");
-        glLightModeliv = getFunctionAddress(fc, provider, "glLightModeliv");
-        glLightModelfv = getFunctionAddress(fc, provider, "glLightModelfv");
-        glLighti = getFunctionAddress(fc, provider, "glLighti");
-        glLightf = getFunctionAddress(fc, provider, "glLightf");
-        glLightiv = getFunctionAddress(fc, provider, "glLightiv");
-        glLightfv = getFunctionAddress(fc, provider, "glLightfv");
-        glLineStipple = getFunctionAddress(fc, provider, "glLineStipple");
-        glListBase = getFunctionAddress(fc, provider, "glListBase");
-        glLoadMatrixf = getFunctionAddress(fc, provider, "glLoadMatrixf");
-        glLoadMatrixd = getFunctionAddress(fc, provider, "glLoadMatrixd");
-        glLoadIdentity = getFunctionAddress(fc, provider, "glLoadIdentity");
-        glLoadName = getFunctionAddress(fc, provider, "glLoadName");
-        glMap1f = getFunctionAddress(fc, provider, "glMap1f");
-        glMap1d = getFunctionAddress(fc, provider, "glMap1d");
-        glMap2f = getFunctionAddress(fc, provider, "glMap2f");
-        glMap2d = getFunctionAddress(fc, provider, "glMap2d");
-        glMapGrid1f = getFunctionAddress(fc, provider, "glMapGrid1f");
-        glMapGrid1d = getFunctionAddress(fc, provider, "glMapGrid1d");
-        glMapGrid2f = getFunctionAddress(fc, provider, "glMapGrid2f");
-        glMapGrid2d = getFunctionAddress(fc, provider, "glMapGrid2d");
-        glMateriali = getFunctionAddress(fc, provider, "glMateriali");
-        glMaterialf = getFunctionAddress(fc, provider, "glMaterialf");
-        glMaterialiv = getFunctionAddress(fc, provider, "glMaterialiv");
-        glMaterialfv = getFunctionAddress(fc, provider, "glMaterialfv");
-        glMatrixMode = getFunctionAddress(fc, provider, "glMatrixMode");
-        glMultMatrixf = getFunctionAddress(fc, provider, "glMultMatrixf");
-        glMultMatrixd = getFunctionAddress(fc, provider, "glMultMatrixd");
-        glFrustum = getFunctionAddress(fc, provider, "glFrustum");
-        glNewList = getFunctionAddress(fc, provider, "glNewList");
-        glEndList = getFunctionAddress(fc, provider, "glEndList");
-        glNormal3f = getFunctionAddress(fc, provider, "glNormal3f");
-        glNormal3b = getFunctionAddress(fc, provider, "glNormal3b");
-        glNormal3s = getFunctionAddress(fc, provider, "glNormal3s");
-        glNormal3i = getFunctionAddress(fc, provider, "glNormal3i");
-        glNormal3d = getFunctionAddress(fc, provider, "glNormal3d");
-        glNormal3fv = getFunctionAddress(fc, provider, "glNormal3fv");
-        glNormal3bv = getFunctionAddress(fc, provider, "glNormal3bv");
-        glNormal3sv = getFunctionAddress(fc, provider, "glNormal3sv");
-        glNormal3iv = getFunctionAddress(fc, provider, "glNormal3iv");
-        glNormal3dv = getFunctionAddress(fc, provider, "glNormal3dv");
-        glNormalPointer = getFunctionAddress(fc, provider, "glNormalPointer");
-        glOrtho = getFunctionAddress(fc, provider, "glOrtho");
-        glPassThrough = getFunctionAddress(fc, provider, "glPassThrough");
-        glPixelMapfv = getFunctionAddress(fc, provider, "glPixelMapfv");
-        glPixelMapusv = getFunctionAddress(fc, provider, "glPixelMapusv");
-        glPixelMapuiv = getFunctionAddress(fc, provider, "glPixelMapuiv");
-        glPixelTransferi = getFunctionAddress(fc, provider, "glPixelTransferi");
-        glPixelTransferf = getFunctionAddress(fc, provider, "glPixelTransferf");
-        glPixelZoom = getFunctionAddress(fc, provider, "glPixelZoom");
-        glPolygonStipple = getFunctionAddress(fc, provider, "glPolygonStipple");
-        glPushAttrib = getFunctionAddress(fc, provider, "glPushAttrib");
-        glPushClientAttrib = getFunctionAddress(fc, provider, "glPushClientAttrib");
-        glPopAttrib = getFunctionAddress(fc, provider, "glPopAttrib");
-        glPopClientAttrib = getFunctionAddress(fc, provider, "glPopClientAttrib");
-        glPopMatrix = getFunctionAddress(fc, provider, "glPopMatrix");
-        glPopName = getFunctionAddress(fc, provider, "glPopName");
-        glPrioritizeTextures = getFunctionAddress(fc, provider, "glPrioritizeTextures");
-        glPushMatrix = getFunctionAddress(fc, provider, "glPushMatrix");
-        glPushName = getFunctionAddress(fc, provider, "glPushName");
-        glRasterPos2i = getFunctionAddress(fc, provider, "glRasterPos2i");
-        glRasterPos2s = getFunctionAddress(fc, provider, "glRasterPos2s");
-        glRasterPos2f = getFunctionAddress(fc, provider, "glRasterPos2f");
-        glRasterPos2d = getFunctionAddress(fc, provider, "glRasterPos2d");
-        glRasterPos2iv = getFunctionAddress(fc, provider, "glRasterPos2iv");
-        glRasterPos2sv = getFunctionAddress(fc, provider, "glRasterPos2sv");
-        glRasterPos2fv = getFunctionAddress(fc, provider, "glRasterPos2fv");
-        glRasterPos2dv = getFunctionAddress(fc, provider, "glRasterPos2dv");
-        glRasterPos3i = getFunctionAddress(fc, provider, "glRasterPos3i");
-        glRasterPos3s = getFunctionAddress(fc, provider, "glRasterPos3s");
-        glRasterPos3f = getFunctionAddress(fc, provider, "glRasterPos3f");
-        glRasterPos3d = getFunctionAddress(fc, provider, "glRasterPos3d");
-        glRasterPos3iv = getFunctionAddress(fc, provider, "glRasterPos3iv");
-        glRasterPos3sv = getFunctionAddress(fc, provider, "glRasterPos3sv");
-        glRasterPos3fv = getFunctionAddress(fc, provider, "glRasterPos3fv");
-        glRasterPos3dv = getFunctionAddress(fc, provider, "glRasterPos3dv");
-        glRasterPos4i = getFunctionAddress(fc, provider, "glRasterPos4i");
-        glRasterPos4s = getFunctionAddress(fc, provider, "glRasterPos4s");
-        glRasterPos4f = getFunctionAddress(fc, provider, "glRasterPos4f");
-        glRasterPos4d = getFunctionAddress(fc, provider, "glRasterPos4d");
-        glRasterPos4iv = getFunctionAddress(fc, provider, "glRasterPos4iv");
-        glRasterPos4sv = getFunctionAddress(fc, provider, "glRasterPos4sv");
-        glRasterPos4fv = getFunctionAddress(fc, provider, "glRasterPos4fv");
-        glRasterPos4dv = getFunctionAddress(fc, provider, "glRasterPos4dv");
-        glRecti = getFunctionAddress(fc, provider, "glRecti");
-        glRects = getFunctionAddress(fc, provider, "glRects");
-        glRectf = getFunctionAddress(fc, provider, "glRectf");
-        glRectd = getFunctionAddress(fc, provider, "glRectd");
-        glRectiv = getFunctionAddress(fc, provider, "glRectiv");
-        glRectsv = getFunctionAddress(fc, provider, "glRectsv");
-        glRectfv = getFunctionAddress(fc, provider, "glRectfv");
-        glRectdv = getFunctionAddress(fc, provider, "glRectdv");
-        glRenderMode = getFunctionAddress(fc, provider, "glRenderMode");
-        glRotatef = getFunctionAddress(fc, provider, "glRotatef");
-        glRotated = getFunctionAddress(fc, provider, "glRotated");
-        glScalef = getFunctionAddress(fc, provider, "glScalef");
-        glScaled = getFunctionAddress(fc, provider, "glScaled");
-        glSelectBuffer = getFunctionAddress(fc, provider, "glSelectBuffer");
-        glShadeModel = getFunctionAddress(fc, provider, "glShadeModel");
-        glTexCoord1f = getFunctionAddress(fc, provider, "glTexCoord1f");
-        glTexCoord1s = getFunctionAddress(fc, provider, "glTexCoord1s");
-        glTexCoord1i = getFunctionAddress(fc, provider, "glTexCoord1i");
-        glTexCoord1d = getFunctionAddress(fc, provider, "glTexCoord1d");
-        glTexCoord1fv = getFunctionAddress(fc, provider, "glTexCoord1fv");
-        glTexCoord1sv = getFunctionAddress(fc, provider, "glTexCoord1sv");
-        glTexCoord1iv = getFunctionAddress(fc, provider, "glTexCoord1iv");
-        glTexCoord1dv = getFunctionAddress(fc, provider, "glTexCoord1dv");
-        glTexCoord2f = getFunctionAddress(fc, provider, "glTexCoord2f");
-        glTexCoord2s = getFunctionAddress(fc, provider, "glTexCoord2s");
-        glTexCoord2i = getFunctionAddress(fc, provider, "glTexCoord2i");
-        glTexCoord2d = getFunctionAddress(fc, provider, "glTexCoord2d");
-        glTexCoord2fv = getFunctionAddress(fc, provider, "glTexCoord2fv");
-        glTexCoord2sv = getFunctionAddress(fc, provider, "glTexCoord2sv");
-        glTexCoord2iv = getFunctionAddress(fc, provider, "glTexCoord2iv");
-        glTexCoord2dv = getFunctionAddress(fc, provider, "glTexCoord2dv");
-        glTexCoord3f = getFunctionAddress(fc, provider, "glTexCoord3f");
-        glTexCoord3s = getFunctionAddress(fc, provider, "glTexCoord3s");
-        glTexCoord3i = getFunctionAddress(fc, provider, "glTexCoord3i");
-        glTexCoord3d = getFunctionAddress(fc, provider, "glTexCoord3d");
-        glTexCoord3fv = getFunctionAddress(fc, provider, "glTexCoord3fv");
-        glTexCoord3sv = getFunctionAddress(fc, provider, "glTexCoord3sv");
-        glTexCoord3iv = getFunctionAddress(fc, provider, "glTexCoord3iv");
-        glTexCoord3dv = getFunctionAddress(fc, provider, "glTexCoord3dv");
-        glTexCoord4f = getFunctionAddress(fc, provider, "glTexCoord4f");
-        glTexCoord4s = getFunctionAddress(fc, provider, "glTexCoord4s");
-        glTexCoord4i = getFunctionAddress(fc, provider, "glTexCoord4i");
-        glTexCoord4d = getFunctionAddress(fc, provider, "glTexCoord4d");
-        glTexCoord4fv = getFunctionAddress(fc, provider, "glTexCoord4fv");
-        glTexCoord4sv = getFunctionAddress(fc, provider, "glTexCoord4sv");
-        glTexCoord4iv = getFunctionAddress(fc, provider, "glTexCoord4iv");
-        glTexCoord4dv = getFunctionAddress(fc, provider, "glTexCoord4dv");
-        glTexCoordPointer = getFunctionAddress(fc, provider, "glTexCoordPointer");
-        glTexEnvi = getFunctionAddress(fc, provider, "glTexEnvi");
-        glTexEnviv = getFunctionAddress(fc, provider, "glTexEnviv");
-        glTexEnvf = getFunctionAddress(fc, provider, "glTexEnvf");
-        glTexEnvfv = getFunctionAddress(fc, provider, "glTexEnvfv");
-        glTexGeni = getFunctionAddress(fc, provider, "glTexGeni");
-        glTexGeniv = getFunctionAddress(fc, provider, "glTexGeniv");
-        glTexGenf = getFunctionAddress(fc, provider, "glTexGenf");
-        glTexGenfv = getFunctionAddress(fc, provider, "glTexGenfv");
-        glTexGend = getFunctionAddress(fc, provider, "glTexGend");
-        glTexGendv = getFunctionAddress(fc, provider, "glTexGendv");
-        glTranslatef = getFunctionAddress(fc, provider, "glTranslatef");
-        glTranslated = getFunctionAddress(fc, provider, "glTranslated");
-        glVertex2f = getFunctionAddress(fc, provider, "glVertex2f");
-        glVertex2s = getFunctionAddress(fc, provider, "glVertex2s");
-        glVertex2i = getFunctionAddress(fc, provider, "glVertex2i");
-        glVertex2d = getFunctionAddress(fc, provider, "glVertex2d");
-        glVertex2fv = getFunctionAddress(fc, provider, "glVertex2fv");
-        glVertex2sv = getFunctionAddress(fc, provider, "glVertex2sv");
-        glVertex2iv = getFunctionAddress(fc, provider, "glVertex2iv");
-        glVertex2dv = getFunctionAddress(fc, provider, "glVertex2dv");
-        glVertex3f = getFunctionAddress(fc, provider, "glVertex3f");
-        glVertex3s = getFunctionAddress(fc, provider, "glVertex3s");
-        glVertex3i = getFunctionAddress(fc, provider, "glVertex3i");
-        glVertex3d = getFunctionAddress(fc, provider, "glVertex3d");
-        glVertex3fv = getFunctionAddress(fc, provider, "glVertex3fv");
-        glVertex3sv = getFunctionAddress(fc, provider, "glVertex3sv");
-        glVertex3iv = getFunctionAddress(fc, provider, "glVertex3iv");
-        glVertex3dv = getFunctionAddress(fc, provider, "glVertex3dv");
-        glVertex4f = getFunctionAddress(fc, provider, "glVertex4f");
-        glVertex4s = getFunctionAddress(fc, provider, "glVertex4s");
-        glVertex4i = getFunctionAddress(fc, provider, "glVertex4i");
-        glVertex4d = getFunctionAddress(fc, provider, "glVertex4d");
-        glVertex4fv = getFunctionAddress(fc, provider, "glVertex4fv");
-        glVertex4sv = getFunctionAddress(fc, provider, "glVertex4sv");
-        glVertex4iv = getFunctionAddress(fc, provider, "glVertex4iv");
-        glVertex4dv = getFunctionAddress(fc, provider, "glVertex4dv");
-        glVertexPointer = getFunctionAddress(fc, provider, "glVertexPointer");
-        glEnable = provider.getFunctionAddress("glEnable");
-        glDisable = provider.getFunctionAddress("glDisable");
-        glBindTexture = provider.getFunctionAddress("glBindTexture");
-        glBlendFunc = provider.getFunctionAddress("glBlendFunc");
-        glClear = provider.getFunctionAddress("glClear");
-        glClearColor = provider.getFunctionAddress("glClearColor");
-        glClearDepth = provider.getFunctionAddress("glClearDepth");
-        glClearStencil = provider.getFunctionAddress("glClearStencil");
-        glColorMask = provider.getFunctionAddress("glColorMask");
-        glCullFace = provider.getFunctionAddress("glCullFace");
-        glDepthFunc = provider.getFunctionAddress("glDepthFunc");
-        glDepthMask = provider.getFunctionAddress("glDepthMask");
-        glDepthRange = provider.getFunctionAddress("glDepthRange");
-        glDrawArrays = provider.getFunctionAddress("glDrawArrays");
-        glDrawBuffer = provider.getFunctionAddress("glDrawBuffer");
-        glDrawElements = provider.getFunctionAddress("glDrawElements");
-        glFinish = provider.getFunctionAddress("glFinish");
-        glFlush = provider.getFunctionAddress("glFlush");
-        glFrontFace = provider.getFunctionAddress("glFrontFace");
-        glGenTextures = provider.getFunctionAddress("glGenTextures");
-        glDeleteTextures = provider.getFunctionAddress("glDeleteTextures");
-        glGetBooleanv = provider.getFunctionAddress("glGetBooleanv");
-        glGetFloatv = provider.getFunctionAddress("glGetFloatv");
-        glGetIntegerv = provider.getFunctionAddress("glGetIntegerv");
-        glGetDoublev = provider.getFunctionAddress("glGetDoublev");
-        glGetError = provider.getFunctionAddress("glGetError");
-        glGetPointerv = provider.getFunctionAddress("glGetPointerv");
-        glGetString = provider.getFunctionAddress("glGetString");
-        glGetTexImage = provider.getFunctionAddress("glGetTexImage");
-        glGetTexLevelParameteriv = provider.getFunctionAddress("glGetTexLevelParameteriv");
-        glGetTexLevelParameterfv = provider.getFunctionAddress("glGetTexLevelParameterfv");
-        glGetTexParameteriv = provider.getFunctionAddress("glGetTexParameteriv");
-        glGetTexParameterfv = provider.getFunctionAddress("glGetTexParameterfv");
-        glHint = provider.getFunctionAddress("glHint");
-        glIsEnabled = provider.getFunctionAddress("glIsEnabled");
-        glIsTexture = provider.getFunctionAddress("glIsTexture");
-        glLineWidth = provider.getFunctionAddress("glLineWidth");
-        glLogicOp = provider.getFunctionAddress("glLogicOp");
-        glPixelStorei = provider.getFunctionAddress("glPixelStorei");
-        glPixelStoref = provider.getFunctionAddress("glPixelStoref");
-        glPointSize = provider.getFunctionAddress("glPointSize");
-        glPolygonMode = provider.getFunctionAddress("glPolygonMode");
-        glPolygonOffset = provider.getFunctionAddress("glPolygonOffset");
-        glReadBuffer = provider.getFunctionAddress("glReadBuffer");
-        glReadPixels = provider.getFunctionAddress("glReadPixels");
-        glScissor = provider.getFunctionAddress("glScissor");
-        glStencilFunc = provider.getFunctionAddress("glStencilFunc");
-        glStencilMask = provider.getFunctionAddress("glStencilMask");
-        glStencilOp = provider.getFunctionAddress("glStencilOp");
-        glTexImage1D = provider.getFunctionAddress("glTexImage1D");
-        glTexImage2D = provider.getFunctionAddress("glTexImage2D");
-        glCopyTexImage1D = provider.getFunctionAddress("glCopyTexImage1D");
-        glCopyTexImage2D = provider.getFunctionAddress("glCopyTexImage2D");
-        glCopyTexSubImage1D = provider.getFunctionAddress("glCopyTexSubImage1D");
-        glCopyTexSubImage2D = provider.getFunctionAddress("glCopyTexSubImage2D");
-        glTexParameteri = provider.getFunctionAddress("glTexParameteri");
-        glTexParameteriv = provider.getFunctionAddress("glTexParameteriv");
-        glTexParameterf = provider.getFunctionAddress("glTexParameterf");
-        glTexParameterfv = provider.getFunctionAddress("glTexParameterfv");
-        glTexSubImage1D = provider.getFunctionAddress("glTexSubImage1D");
-        glTexSubImage2D = provider.getFunctionAddress("glTexSubImage2D");
-        glViewport = provider.getFunctionAddress("glViewport");
-        glTexImage3D = provider.getFunctionAddress("glTexImage3D");
-        glTexSubImage3D = provider.getFunctionAddress("glTexSubImage3D");
-        glCopyTexSubImage3D = provider.getFunctionAddress("glCopyTexSubImage3D");
-        glDrawRangeElements = provider.getFunctionAddress("glDrawRangeElements");
-        glClientActiveTexture = getFunctionAddress(fc, provider, "glClientActiveTexture");
-        glMultiTexCoord1f = getFunctionAddress(fc, provider, "glMultiTexCoord1f");
-        glMultiTexCoord1s = getFunctionAddress(fc, provider, "glMultiTexCoord1s");
-        glMultiTexCoord1i = getFunctionAddress(fc, provider, "glMultiTexCoord1i");
-        glMultiTexCoord1d = getFunctionAddress(fc, provider, "glMultiTexCoord1d");
-        glMultiTexCoord1fv = getFunctionAddress(fc, provider, "glMultiTexCoord1fv");
-        glMultiTexCoord1sv = getFunctionAddress(fc, provider, "glMultiTexCoord1sv");
-        glMultiTexCoord1iv = getFunctionAddress(fc, provider, "glMultiTexCoord1iv");
-        glMultiTexCoord1dv = getFunctionAddress(fc, provider, "glMultiTexCoord1dv");
-        glMultiTexCoord2f = getFunctionAddress(fc, provider, "glMultiTexCoord2f");
-        glMultiTexCoord2s = getFunctionAddress(fc, provider, "glMultiTexCoord2s");
-        glMultiTexCoord2i = getFunctionAddress(fc, provider, "glMultiTexCoord2i");
-        glMultiTexCoord2d = getFunctionAddress(fc, provider, "glMultiTexCoord2d");
-        glMultiTexCoord2fv = getFunctionAddress(fc, provider, "glMultiTexCoord2fv");
-        glMultiTexCoord2sv = getFunctionAddress(fc, provider, "glMultiTexCoord2sv");
-        glMultiTexCoord2iv = getFunctionAddress(fc, provider, "glMultiTexCoord2iv");
-        glMultiTexCoord2dv = getFunctionAddress(fc, provider, "glMultiTexCoord2dv");
-        glMultiTexCoord3f = getFunctionAddress(fc, provider, "glMultiTexCoord3f");
-        glMultiTexCoord3s = getFunctionAddress(fc, provider, "glMultiTexCoord3s");
-        glMultiTexCoord3i = getFunctionAddress(fc, provider, "glMultiTexCoord3i");
-        glMultiTexCoord3d = getFunctionAddress(fc, provider, "glMultiTexCoord3d");
-        glMultiTexCoord3fv = getFunctionAddress(fc, provider, "glMultiTexCoord3fv");
-        glMultiTexCoord3sv = getFunctionAddress(fc, provider, "glMultiTexCoord3sv");
-        glMultiTexCoord3iv = getFunctionAddress(fc, provider, "glMultiTexCoord3iv");
-        glMultiTexCoord3dv = getFunctionAddress(fc, provider, "glMultiTexCoord3dv");
-        glMultiTexCoord4f = getFunctionAddress(fc, provider, "glMultiTexCoord4f");
-        glMultiTexCoord4s = getFunctionAddress(fc, provider, "glMultiTexCoord4s");
-        glMultiTexCoord4i = getFunctionAddress(fc, provider, "glMultiTexCoord4i");
-        glMultiTexCoord4d = getFunctionAddress(fc, provider, "glMultiTexCoord4d");
-        glMultiTexCoord4fv = getFunctionAddress(fc, provider, "glMultiTexCoord4fv");
-        glMultiTexCoord4sv = getFunctionAddress(fc, provider, "glMultiTexCoord4sv");
-        glMultiTexCoord4iv = getFunctionAddress(fc, provider, "glMultiTexCoord4iv");
-        glMultiTexCoord4dv = getFunctionAddress(fc, provider, "glMultiTexCoord4dv");
-        glLoadTransposeMatrixf = getFunctionAddress(fc, provider, "glLoadTransposeMatrixf");
-        glLoadTransposeMatrixd = getFunctionAddress(fc, provider, "glLoadTransposeMatrixd");
-        glMultTransposeMatrixf = getFunctionAddress(fc, provider, "glMultTransposeMatrixf");
-        glMultTransposeMatrixd = getFunctionAddress(fc, provider, "glMultTransposeMatrixd");
-        glCompressedTexImage3D = provider.getFunctionAddress("glCompressedTexImage3D");
-        glCompressedTexImage2D = provider.getFunctionAddress("glCompressedTexImage2D");
-        glCompressedTexImage1D = provider.getFunctionAddress("glCompressedTexImage1D");
-        glCompressedTexSubImage3D = provider.getFunctionAddress("glCompressedTexSubImage3D");
-        glCompressedTexSubImage2D = provider.getFunctionAddress("glCompressedTexSubImage2D");
-        glCompressedTexSubImage1D = provider.getFunctionAddress("glCompressedTexSubImage1D");
-        glGetCompressedTexImage = provider.getFunctionAddress("glGetCompressedTexImage");
-        glSampleCoverage = provider.getFunctionAddress("glSampleCoverage");
-        glActiveTexture = provider.getFunctionAddress("glActiveTexture");
-        glFogCoordf = getFunctionAddress(fc, provider, "glFogCoordf");
-        glFogCoordd = getFunctionAddress(fc, provider, "glFogCoordd");
-        glFogCoordfv = getFunctionAddress(fc, provider, "glFogCoordfv");
-        glFogCoorddv = getFunctionAddress(fc, provider, "glFogCoorddv");
-        glFogCoordPointer = getFunctionAddress(fc, provider, "glFogCoordPointer");
-        glSecondaryColor3b = getFunctionAddress(fc, provider, "glSecondaryColor3b");
-        glSecondaryColor3s = getFunctionAddress(fc, provider, "glSecondaryColor3s");
-        glSecondaryColor3i = getFunctionAddress(fc, provider, "glSecondaryColor3i");
-        glSecondaryColor3f = getFunctionAddress(fc, provider, "glSecondaryColor3f");
-        glSecondaryColor3d = getFunctionAddress(fc, provider, "glSecondaryColor3d");
-        glSecondaryColor3ub = getFunctionAddress(fc, provider, "glSecondaryColor3ub");
-        glSecondaryColor3us = getFunctionAddress(fc, provider, "glSecondaryColor3us");
-        glSecondaryColor3ui = getFunctionAddress(fc, provider, "glSecondaryColor3ui");
-        glSecondaryColor3bv = getFunctionAddress(fc, provider, "glSecondaryColor3bv");
-        glSecondaryColor3sv = getFunctionAddress(fc, provider, "glSecondaryColor3sv");
-        glSecondaryColor3iv = getFunctionAddress(fc, provider, "glSecondaryColor3iv");
-        glSecondaryColor3fv = getFunctionAddress(fc, provider, "glSecondaryColor3fv");
-        glSecondaryColor3dv = getFunctionAddress(fc, provider, "glSecondaryColor3dv");
-        glSecondaryColor3ubv = getFunctionAddress(fc, provider, "glSecondaryColor3ubv");
-        glSecondaryColor3usv = getFunctionAddress(fc, provider, "glSecondaryColor3usv");
-        glSecondaryColor3uiv = getFunctionAddress(fc, provider, "glSecondaryColor3uiv");
-        glSecondaryColorPointer = getFunctionAddress(fc, provider, "glSecondaryColorPointer");
-        glWindowPos2i = getFunctionAddress(fc, provider, "glWindowPos2i");
-        glWindowPos2s = getFunctionAddress(fc, provider, "glWindowPos2s");
-        glWindowPos2f = getFunctionAddress(fc, provider, "glWindowPos2f");
-        glWindowPos2d = getFunctionAddress(fc, provider, "glWindowPos2d");
-        glWindowPos2iv = getFunctionAddress(fc, provider, "glWindowPos2iv");
-        glWindowPos2sv = getFunctionAddress(fc, provider, "glWindowPos2sv");
-        glWindowPos2fv = getFunctionAddress(fc, provider, "glWindowPos2fv");
-        glWindowPos2dv = getFunctionAddress(fc, provider, "glWindowPos2dv");
-        glWindowPos3i = getFunctionAddress(fc, provider, "glWindowPos3i");
-        glWindowPos3s = getFunctionAddress(fc, provider, "glWindowPos3s");
-        glWindowPos3f = getFunctionAddress(fc, provider, "glWindowPos3f");
-        glWindowPos3d = getFunctionAddress(fc, provider, "glWindowPos3d");
-        glWindowPos3iv = getFunctionAddress(fc, provider, "glWindowPos3iv");
-        glWindowPos3sv = getFunctionAddress(fc, provider, "glWindowPos3sv");
-        glWindowPos3fv = getFunctionAddress(fc, provider, "glWindowPos3fv");
-        glWindowPos3dv = getFunctionAddress(fc, provider, "glWindowPos3dv");
-        glBlendColor = provider.getFunctionAddress("glBlendColor");
-        glBlendEquation = provider.getFunctionAddress("glBlendEquation");
-        glMultiDrawArrays = provider.getFunctionAddress("glMultiDrawArrays");
-        glMultiDrawElements = provider.getFunctionAddress("glMultiDrawElements");
-        glPointParameterf = provider.getFunctionAddress("glPointParameterf");
-        glPointParameteri = provider.getFunctionAddress("glPointParameteri");
-        glPointParameterfv = provider.getFunctionAddress("glPointParameterfv");
-        glPointParameteriv = provider.getFunctionAddress("glPointParameteriv");
-        glBlendFuncSeparate = provider.getFunctionAddress("glBlendFuncSeparate");
-        glBindBuffer = provider.getFunctionAddress("glBindBuffer");
-        glDeleteBuffers = provider.getFunctionAddress("glDeleteBuffers");
-        glGenBuffers = provider.getFunctionAddress("glGenBuffers");
-        glIsBuffer = provider.getFunctionAddress("glIsBuffer");
-        glBufferData = provider.getFunctionAddress("glBufferData");
-        glBufferSubData = provider.getFunctionAddress("glBufferSubData");
-        glGetBufferSubData = provider.getFunctionAddress("glGetBufferSubData");
-        glMapBuffer = provider.getFunctionAddress("glMapBuffer");
-        glUnmapBuffer = provider.getFunctionAddress("glUnmapBuffer");
-        glGetBufferParameteriv = provider.getFunctionAddress("glGetBufferParameteriv");
-        glGetBufferPointerv = provider.getFunctionAddress("glGetBufferPointerv");
-        glGenQueries = provider.getFunctionAddress("glGenQueries");
-        glDeleteQueries = provider.getFunctionAddress("glDeleteQueries");
-        glIsQuery = provider.getFunctionAddress("glIsQuery");
-        glBeginQuery = provider.getFunctionAddress("glBeginQuery");
-        glEndQuery = provider.getFunctionAddress("glEndQuery");
-        glGetQueryiv = provider.getFunctionAddress("glGetQueryiv");
-        glGetQueryObjectiv = provider.getFunctionAddress("glGetQueryObjectiv");
-        glGetQueryObjectuiv = provider.getFunctionAddress("glGetQueryObjectuiv");
-        glCreateProgram = provider.getFunctionAddress("glCreateProgram");
-        glDeleteProgram = provider.getFunctionAddress("glDeleteProgram");
-        glIsProgram = provider.getFunctionAddress("glIsProgram");
-        glCreateShader = provider.getFunctionAddress("glCreateShader");
-        glDeleteShader = provider.getFunctionAddress("glDeleteShader");
-        glIsShader = provider.getFunctionAddress("glIsShader");
-        glAttachShader = provider.getFunctionAddress("glAttachShader");
-        glDetachShader = provider.getFunctionAddress("glDetachShader");
-        glShaderSource = provider.getFunctionAddress("glShaderSource");
-        glCompileShader = provider.getFunctionAddress("glCompileShader");
-        glLinkProgram = provider.getFunctionAddress("glLinkProgram");
-        glUseProgram = provider.getFunctionAddress("glUseProgram");
-        glValidateProgram = provider.getFunctionAddress("glValidateProgram");
-        glUniform1f = provider.getFunctionAddress("glUniform1f");
-        glUniform2f = provider.getFunctionAddress("glUniform2f");
-        glUniform3f = provider.getFunctionAddress("glUniform3f");
-        glUniform4f = provider.getFunctionAddress("glUniform4f");
-        glUniform1i = provider.getFunctionAddress("glUniform1i");
-        glUniform2i = provider.getFunctionAddress("glUniform2i");
-        glUniform3i = provider.getFunctionAddress("glUniform3i");
-        glUniform4i = provider.getFunctionAddress("glUniform4i");
-        glUniform1fv = provider.getFunctionAddress("glUniform1fv");
-        glUniform2fv = provider.getFunctionAddress("glUniform2fv");
-        glUniform3fv = provider.getFunctionAddress("glUniform3fv");
-        glUniform4fv = provider.getFunctionAddress("glUniform4fv");
-        glUniform1iv = provider.getFunctionAddress("glUniform1iv");
-        glUniform2iv = provider.getFunctionAddress("glUniform2iv");
-        glUniform3iv = provider.getFunctionAddress("glUniform3iv");
-        glUniform4iv = provider.getFunctionAddress("glUniform4iv");
-        glUniformMatrix2fv = provider.getFunctionAddress("glUniformMatrix2fv");
-        glUniformMatrix3fv = provider.getFunctionAddress("glUniformMatrix3fv");
-        glUniformMatrix4fv = provider.getFunctionAddress("glUniformMatrix4fv");
-        glGetShaderiv = provider.getFunctionAddress("glGetShaderiv");
-        glGetProgramiv = provider.getFunctionAddress("glGetProgramiv");
-        glGetShaderInfoLog = provider.getFunctionAddress("glGetShaderInfoLog");
-        glGetProgramInfoLog = provider.getFunctionAddress("glGetProgramInfoLog");
-        glGetAttachedShaders = provider.getFunctionAddress("glGetAttachedShaders");
-        glGetUniformLocation = provider.getFunctionAddress("glGetUniformLocation");
-        glGetActiveUniform = provider.getFunctionAddress("glGetActiveUniform");
-        glGetUniformfv = provider.getFunctionAddress("glGetUniformfv");
-        glGetUniformiv = provider.getFunctionAddress("glGetUniformiv");
-        glGetShaderSource = provider.getFunctionAddress("glGetShaderSource");
-        glVertexAttrib1f = provider.getFunctionAddress("glVertexAttrib1f");
-        glVertexAttrib1s = provider.getFunctionAddress("glVertexAttrib1s");
-        glVertexAttrib1d = provider.getFunctionAddress("glVertexAttrib1d");
-        glVertexAttrib2f = provider.getFunctionAddress("glVertexAttrib2f");
-        glVertexAttrib2s = provider.getFunctionAddress("glVertexAttrib2s");
-        glVertexAttrib2d = provider.getFunctionAddress("glVertexAttrib2d");
-        glVertexAttrib3f = provider.getFunctionAddress("glVertexAttrib3f");
-        glVertexAttrib3s = provider.getFunctionAddress("glVertexAttrib3s");
-        glVertexAttrib3d = provider.getFunctionAddress("glVertexAttrib3d");
-        glVertexAttrib4f = provider.getFunctionAddress("glVertexAttrib4f");
-        glVertexAttrib4s = provider.getFunctionAddress("glVertexAttrib4s");
-        glVertexAttrib4d = provider.getFunctionAddress("glVertexAttrib4d");
-        glVertexAttrib4Nub = provider.getFunctionAddress("glVertexAttrib4Nub");
-        glVertexAttrib1fv = provider.getFunctionAddress("glVertexAttrib1fv");
-        glVertexAttrib1sv = provider.getFunctionAddress("glVertexAttrib1sv");
-        glVertexAttrib1dv = provider.getFunctionAddress("glVertexAttrib1dv");
-        glVertexAttrib2fv = provider.getFunctionAddress("glVertexAttrib2fv");
-        glVertexAttrib2sv = provider.getFunctionAddress("glVertexAttrib2sv");
-        glVertexAttrib2dv = provider.getFunctionAddress("glVertexAttrib2dv");
-        glVertexAttrib3fv = provider.getFunctionAddress("glVertexAttrib3fv");
-        glVertexAttrib3sv = provider.getFunctionAddress("glVertexAttrib3sv");
-        glVertexAttrib3dv = provider.getFunctionAddress("glVertexAttrib3dv");
-        glVertexAttrib4fv = provider.getFunctionAddress("glVertexAttrib4fv");
-        glVertexAttrib4sv = provider.getFunctionAddress("glVertexAttrib4sv");
-        glVertexAttrib4dv = provider.getFunctionAddress("glVertexAttrib4dv");
-        glVertexAttrib4iv = provider.getFunctionAddress("glVertexAttrib4iv");
-        glVertexAttrib4bv = provider.getFunctionAddress("glVertexAttrib4bv");
-        glVertexAttrib4ubv = provider.getFunctionAddress("glVertexAttrib4ubv");
-        glVertexAttrib4usv = provider.getFunctionAddress("glVertexAttrib4usv");
-        glVertexAttrib4uiv = provider.getFunctionAddress("glVertexAttrib4uiv");
-        glVertexAttrib4Nbv = provider.getFunctionAddress("glVertexAttrib4Nbv");
-        glVertexAttrib4Nsv = provider.getFunctionAddress("glVertexAttrib4Nsv");
-        glVertexAttrib4Niv = provider.getFunctionAddress("glVertexAttrib4Niv");
-        glVertexAttrib4Nubv = provider.getFunctionAddress("glVertexAttrib4Nubv");
-        glVertexAttrib4Nusv = provider.getFunctionAddress("glVertexAttrib4Nusv");
-        glVertexAttrib4Nuiv = provider.getFunctionAddress("glVertexAttrib4Nuiv");
-        glVertexAttribPointer = provider.getFunctionAddress("glVertexAttribPointer");
-        glEnableVertexAttribArray = provider.getFunctionAddress("glEnableVertexAttribArray");
-        glDisableVertexAttribArray = provider.getFunctionAddress("glDisableVertexAttribArray");
-        glBindAttribLocation = provider.getFunctionAddress("glBindAttribLocation");
-        glGetActiveAttrib = provider.getFunctionAddress("glGetActiveAttrib");
-        glGetAttribLocation = provider.getFunctionAddress("glGetAttribLocation");
-        glGetVertexAttribiv = provider.getFunctionAddress("glGetVertexAttribiv");
-        glGetVertexAttribfv = provider.getFunctionAddress("glGetVertexAttribfv");
-        glGetVertexAttribdv = provider.getFunctionAddress("glGetVertexAttribdv");
-        glGetVertexAttribPointerv = provider.getFunctionAddress("glGetVertexAttribPointerv");
-        glDrawBuffers = provider.getFunctionAddress("glDrawBuffers");
-        glBlendEquationSeparate = provider.getFunctionAddress("glBlendEquationSeparate");
-        glStencilOpSeparate = provider.getFunctionAddress("glStencilOpSeparate");
-        glStencilFuncSeparate = provider.getFunctionAddress("glStencilFuncSeparate");
-        glStencilMaskSeparate = provider.getFunctionAddress("glStencilMaskSeparate");
-        glUniformMatrix2x3fv = provider.getFunctionAddress("glUniformMatrix2x3fv");
-        glUniformMatrix3x2fv = provider.getFunctionAddress("glUniformMatrix3x2fv");
-        glUniformMatrix2x4fv = provider.getFunctionAddress("glUniformMatrix2x4fv");
-        glUniformMatrix4x2fv = provider.getFunctionAddress("glUniformMatrix4x2fv");
-        glUniformMatrix3x4fv = provider.getFunctionAddress("glUniformMatrix3x4fv");
-        glUniformMatrix4x3fv = provider.getFunctionAddress("glUniformMatrix4x3fv");
-        glGetStringi = provider.getFunctionAddress("glGetStringi");
-        glClearBufferiv = provider.getFunctionAddress("glClearBufferiv");
-        glClearBufferuiv = provider.getFunctionAddress("glClearBufferuiv");
-        glClearBufferfv = provider.getFunctionAddress("glClearBufferfv");
-        glClearBufferfi = provider.getFunctionAddress("glClearBufferfi");
-        glVertexAttribI1i = provider.getFunctionAddress("glVertexAttribI1i");
-        glVertexAttribI2i = provider.getFunctionAddress("glVertexAttribI2i");
-        glVertexAttribI3i = provider.getFunctionAddress("glVertexAttribI3i");
-        glVertexAttribI4i = provider.getFunctionAddress("glVertexAttribI4i");
-        glVertexAttribI1ui = provider.getFunctionAddress("glVertexAttribI1ui");
-        glVertexAttribI2ui = provider.getFunctionAddress("glVertexAttribI2ui");
-        glVertexAttribI3ui = provider.getFunctionAddress("glVertexAttribI3ui");
-        glVertexAttribI4ui = provider.getFunctionAddress("glVertexAttribI4ui");
-        glVertexAttribI1iv = provider.getFunctionAddress("glVertexAttribI1iv");
-        glVertexAttribI2iv = provider.getFunctionAddress("glVertexAttribI2iv");
-        glVertexAttribI3iv = provider.getFunctionAddress("glVertexAttribI3iv");
-        glVertexAttribI4iv = provider.getFunctionAddress("glVertexAttribI4iv");
-        glVertexAttribI1uiv = provider.getFunctionAddress("glVertexAttribI1uiv");
-        glVertexAttribI2uiv = provider.getFunctionAddress("glVertexAttribI2uiv");
-        glVertexAttribI3uiv = provider.getFunctionAddress("glVertexAttribI3uiv");
-        glVertexAttribI4uiv = provider.getFunctionAddress("glVertexAttribI4uiv");
-        glVertexAttribI4bv = provider.getFunctionAddress("glVertexAttribI4bv");
-        glVertexAttribI4sv = provider.getFunctionAddress("glVertexAttribI4sv");
-        glVertexAttribI4ubv = provider.getFunctionAddress("glVertexAttribI4ubv");
-        glVertexAttribI4usv = provider.getFunctionAddress("glVertexAttribI4usv");
-        glVertexAttribIPointer = provider.getFunctionAddress("glVertexAttribIPointer");
-        glGetVertexAttribIiv = provider.getFunctionAddress("glGetVertexAttribIiv");
-        glGetVertexAttribIuiv = provider.getFunctionAddress("glGetVertexAttribIuiv");
-        glUniform1ui = provider.getFunctionAddress("glUniform1ui");
-        glUniform2ui = provider.getFunctionAddress("glUniform2ui");
-        glUniform3ui = provider.getFunctionAddress("glUniform3ui");
-        glUniform4ui = provider.getFunctionAddress("glUniform4ui");
-        glUniform1uiv = provider.getFunctionAddress("glUniform1uiv");
-        glUniform2uiv = provider.getFunctionAddress("glUniform2uiv");
-        glUniform3uiv = provider.getFunctionAddress("glUniform3uiv");
-        glUniform4uiv = provider.getFunctionAddress("glUniform4uiv");
-        glGetUniformuiv = provider.getFunctionAddress("glGetUniformuiv");
-        glBindFragDataLocation = provider.getFunctionAddress("glBindFragDataLocation");
-        glGetFragDataLocation = provider.getFunctionAddress("glGetFragDataLocation");
-        glBeginConditionalRender = provider.getFunctionAddress("glBeginConditionalRender");
-        glEndConditionalRender = provider.getFunctionAddress("glEndConditionalRender");
-        glMapBufferRange = provider.getFunctionAddress("glMapBufferRange");
-        glFlushMappedBufferRange = provider.getFunctionAddress("glFlushMappedBufferRange");
-        glClampColor = provider.getFunctionAddress("glClampColor");
-        glIsRenderbuffer = provider.getFunctionAddress("glIsRenderbuffer");
-        glBindRenderbuffer = provider.getFunctionAddress("glBindRenderbuffer");
-        glDeleteRenderbuffers = provider.getFunctionAddress("glDeleteRenderbuffers");
-        glGenRenderbuffers = provider.getFunctionAddress("glGenRenderbuffers");
-        glRenderbufferStorage = provider.getFunctionAddress("glRenderbufferStorage");
-        glRenderbufferStorageMultisample = provider.getFunctionAddress("glRenderbufferStorageMultisample");
-        glGetRenderbufferParameteriv = provider.getFunctionAddress("glGetRenderbufferParameteriv");
-        glIsFramebuffer = provider.getFunctionAddress("glIsFramebuffer");
-        glBindFramebuffer = provider.getFunctionAddress("glBindFramebuffer");
-        glDeleteFramebuffers = provider.getFunctionAddress("glDeleteFramebuffers");
-        glGenFramebuffers = provider.getFunctionAddress("glGenFramebuffers");
-        glCheckFramebufferStatus = provider.getFunctionAddress("glCheckFramebufferStatus");
-        glFramebufferTexture1D = provider.getFunctionAddress("glFramebufferTexture1D");
-        glFramebufferTexture2D = provider.getFunctionAddress("glFramebufferTexture2D");
-        glFramebufferTexture3D = provider.getFunctionAddress("glFramebufferTexture3D");
-        glFramebufferTextureLayer = provider.getFunctionAddress("glFramebufferTextureLayer");
-        glFramebufferRenderbuffer = provider.getFunctionAddress("glFramebufferRenderbuffer");
-        glGetFramebufferAttachmentParameteriv = provider.getFunctionAddress("glGetFramebufferAttachmentParameteriv");
-        glBlitFramebuffer = provider.getFunctionAddress("glBlitFramebuffer");
-        glGenerateMipmap = provider.getFunctionAddress("glGenerateMipmap");
-        glTexParameterIiv = provider.getFunctionAddress("glTexParameterIiv");
-        glTexParameterIuiv = provider.getFunctionAddress("glTexParameterIuiv");
-        glGetTexParameterIiv = provider.getFunctionAddress("glGetTexParameterIiv");
-        glGetTexParameterIuiv = provider.getFunctionAddress("glGetTexParameterIuiv");
-        glColorMaski = provider.getFunctionAddress("glColorMaski");
-        glGetBooleani_v = provider.getFunctionAddress("glGetBooleani_v");
-        glGetIntegeri_v = provider.getFunctionAddress("glGetIntegeri_v");
-        glEnablei = provider.getFunctionAddress("glEnablei");
-        glDisablei = provider.getFunctionAddress("glDisablei");
-        glIsEnabledi = provider.getFunctionAddress("glIsEnabledi");
-        glBindBufferRange = provider.getFunctionAddress("glBindBufferRange");
-        glBindBufferBase = provider.getFunctionAddress("glBindBufferBase");
-        glBeginTransformFeedback = provider.getFunctionAddress("glBeginTransformFeedback");
-        glEndTransformFeedback = provider.getFunctionAddress("glEndTransformFeedback");
-        glTransformFeedbackVaryings = provider.getFunctionAddress("glTransformFeedbackVaryings");
-        glGetTransformFeedbackVarying = provider.getFunctionAddress("glGetTransformFeedbackVarying");
-        glBindVertexArray = provider.getFunctionAddress("glBindVertexArray");
-        glDeleteVertexArrays = provider.getFunctionAddress("glDeleteVertexArrays");
-        glGenVertexArrays = provider.getFunctionAddress("glGenVertexArrays");
-        glIsVertexArray = provider.getFunctionAddress("glIsVertexArray");
-        glDrawArraysInstanced = provider.getFunctionAddress("glDrawArraysInstanced");
-        glDrawElementsInstanced = provider.getFunctionAddress("glDrawElementsInstanced");
-        glCopyBufferSubData = provider.getFunctionAddress("glCopyBufferSubData");
-        glPrimitiveRestartIndex = provider.getFunctionAddress("glPrimitiveRestartIndex");
-        glTexBuffer = provider.getFunctionAddress("glTexBuffer");
-        glGetUniformIndices = provider.getFunctionAddress("glGetUniformIndices");
-        glGetActiveUniformsiv = provider.getFunctionAddress("glGetActiveUniformsiv");
-        glGetActiveUniformName = provider.getFunctionAddress("glGetActiveUniformName");
-        glGetUniformBlockIndex = provider.getFunctionAddress("glGetUniformBlockIndex");
-        glGetActiveUniformBlockiv = provider.getFunctionAddress("glGetActiveUniformBlockiv");
-        glGetActiveUniformBlockName = provider.getFunctionAddress("glGetActiveUniformBlockName");
-        glUniformBlockBinding = provider.getFunctionAddress("glUniformBlockBinding");
-        glGetBufferParameteri64v = provider.getFunctionAddress("glGetBufferParameteri64v");
-        glDrawElementsBaseVertex = provider.getFunctionAddress("glDrawElementsBaseVertex");
-        glDrawRangeElementsBaseVertex = provider.getFunctionAddress("glDrawRangeElementsBaseVertex");
-        glDrawElementsInstancedBaseVertex = provider.getFunctionAddress("glDrawElementsInstancedBaseVertex");
-        glMultiDrawElementsBaseVertex = provider.getFunctionAddress("glMultiDrawElementsBaseVertex");
-        glProvokingVertex = provider.getFunctionAddress("glProvokingVertex");
-        glTexImage2DMultisample = provider.getFunctionAddress("glTexImage2DMultisample");
-        glTexImage3DMultisample = provider.getFunctionAddress("glTexImage3DMultisample");
-        glGetMultisamplefv = provider.getFunctionAddress("glGetMultisamplefv");
-        glSampleMaski = provider.getFunctionAddress("glSampleMaski");
-        glFramebufferTexture = provider.getFunctionAddress("glFramebufferTexture");
-        glFenceSync = provider.getFunctionAddress("glFenceSync");
-        glIsSync = provider.getFunctionAddress("glIsSync");
-        glDeleteSync = provider.getFunctionAddress("glDeleteSync");
-        glClientWaitSync = provider.getFunctionAddress("glClientWaitSync");
-        glWaitSync = provider.getFunctionAddress("glWaitSync");
-        glGetInteger64v = provider.getFunctionAddress("glGetInteger64v");
-        glGetInteger64i_v = provider.getFunctionAddress("glGetInteger64i_v");
-        glGetSynciv = provider.getFunctionAddress("glGetSynciv");
-        glVertexP2ui = getFunctionAddress(fc, provider, "glVertexP2ui");
-        glVertexP3ui = getFunctionAddress(fc, provider, "glVertexP3ui");
-        glVertexP4ui = getFunctionAddress(fc, provider, "glVertexP4ui");
-        glVertexP2uiv = getFunctionAddress(fc, provider, "glVertexP2uiv");
-        glVertexP3uiv = getFunctionAddress(fc, provider, "glVertexP3uiv");
-        glVertexP4uiv = getFunctionAddress(fc, provider, "glVertexP4uiv");
-        glTexCoordP1ui = getFunctionAddress(fc, provider, "glTexCoordP1ui");
-        glTexCoordP2ui = getFunctionAddress(fc, provider, "glTexCoordP2ui");
-        glTexCoordP3ui = getFunctionAddress(fc, provider, "glTexCoordP3ui");
-        glTexCoordP4ui = getFunctionAddress(fc, provider, "glTexCoordP4ui");
-        glTexCoordP1uiv = getFunctionAddress(fc, provider, "glTexCoordP1uiv");
-        glTexCoordP2uiv = getFunctionAddress(fc, provider, "glTexCoordP2uiv");
-        glTexCoordP3uiv = getFunctionAddress(fc, provider, "glTexCoordP3uiv");
-        glTexCoordP4uiv = getFunctionAddress(fc, provider, "glTexCoordP4uiv");
-        glMultiTexCoordP1ui = getFunctionAddress(fc, provider, "glMultiTexCoordP1ui");
-        glMultiTexCoordP2ui = getFunctionAddress(fc, provider, "glMultiTexCoordP2ui");
-        glMultiTexCoordP3ui = getFunctionAddress(fc, provider, "glMultiTexCoordP3ui");
-        glMultiTexCoordP4ui = getFunctionAddress(fc, provider, "glMultiTexCoordP4ui");
-        glMultiTexCoordP1uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP1uiv");
-        glMultiTexCoordP2uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP2uiv");
-        glMultiTexCoordP3uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP3uiv");
-        glMultiTexCoordP4uiv = getFunctionAddress(fc, provider, "glMultiTexCoordP4uiv");
-        glNormalP3ui = getFunctionAddress(fc, provider, "glNormalP3ui");
-        glNormalP3uiv = getFunctionAddress(fc, provider, "glNormalP3uiv");
-        glColorP3ui = getFunctionAddress(fc, provider, "glColorP3ui");
-        glColorP4ui = getFunctionAddress(fc, provider, "glColorP4ui");
-        glColorP3uiv = getFunctionAddress(fc, provider, "glColorP3uiv");
-        glColorP4uiv = getFunctionAddress(fc, provider, "glColorP4uiv");
-        glSecondaryColorP3ui = getFunctionAddress(fc, provider, "glSecondaryColorP3ui");
-        glSecondaryColorP3uiv = getFunctionAddress(fc, provider, "glSecondaryColorP3uiv");
-        glBindFragDataLocationIndexed = provider.getFunctionAddress("glBindFragDataLocationIndexed");
-        glGetFragDataIndex = provider.getFunctionAddress("glGetFragDataIndex");
-        glGenSamplers = provider.getFunctionAddress("glGenSamplers");
-        glDeleteSamplers = provider.getFunctionAddress("glDeleteSamplers");
-        glIsSampler = provider.getFunctionAddress("glIsSampler");
-        glBindSampler = provider.getFunctionAddress("glBindSampler");
-        glSamplerParameteri = provider.getFunctionAddress("glSamplerParameteri");
-        glSamplerParameterf = provider.getFunctionAddress("glSamplerParameterf");
-        glSamplerParameteriv = provider.getFunctionAddress("glSamplerParameteriv");
-        glSamplerParameterfv = provider.getFunctionAddress("glSamplerParameterfv");
-        glSamplerParameterIiv = provider.getFunctionAddress("glSamplerParameterIiv");
-        glSamplerParameterIuiv = provider.getFunctionAddress("glSamplerParameterIuiv");
-        glGetSamplerParameteriv = provider.getFunctionAddress("glGetSamplerParameteriv");
-        glGetSamplerParameterfv = provider.getFunctionAddress("glGetSamplerParameterfv");
-        glGetSamplerParameterIiv = provider.getFunctionAddress("glGetSamplerParameterIiv");
-        glGetSamplerParameterIuiv = provider.getFunctionAddress("glGetSamplerParameterIuiv");
-        glQueryCounter = provider.getFunctionAddress("glQueryCounter");
-        glGetQueryObjecti64v = provider.getFunctionAddress("glGetQueryObjecti64v");
-        glGetQueryObjectui64v = provider.getFunctionAddress("glGetQueryObjectui64v");
-        glVertexAttribDivisor = provider.getFunctionAddress("glVertexAttribDivisor");
-        glVertexAttribP1ui = provider.getFunctionAddress("glVertexAttribP1ui");
-        glVertexAttribP2ui = provider.getFunctionAddress("glVertexAttribP2ui");
-        glVertexAttribP3ui = provider.getFunctionAddress("glVertexAttribP3ui");
-        glVertexAttribP4ui = provider.getFunctionAddress("glVertexAttribP4ui");
-        glVertexAttribP1uiv = provider.getFunctionAddress("glVertexAttribP1uiv");
-        glVertexAttribP2uiv = provider.getFunctionAddress("glVertexAttribP2uiv");
-        glVertexAttribP3uiv = provider.getFunctionAddress("glVertexAttribP3uiv");
-        glVertexAttribP4uiv = provider.getFunctionAddress("glVertexAttribP4uiv");
-        glBlendEquationi = provider.getFunctionAddress("glBlendEquationi");
-        glBlendEquationSeparatei = provider.getFunctionAddress("glBlendEquationSeparatei");
-        glBlendFunci = provider.getFunctionAddress("glBlendFunci");
-        glBlendFuncSeparatei = provider.getFunctionAddress("glBlendFuncSeparatei");
-        glDrawArraysIndirect = provider.getFunctionAddress("glDrawArraysIndirect");
-        glDrawElementsIndirect = provider.getFunctionAddress("glDrawElementsIndirect");
-        glUniform1d = provider.getFunctionAddress("glUniform1d");
-        glUniform2d = provider.getFunctionAddress("glUniform2d");
-        glUniform3d = provider.getFunctionAddress("glUniform3d");
-        glUniform4d = provider.getFunctionAddress("glUniform4d");
-        glUniform1dv = provider.getFunctionAddress("glUniform1dv");
-        glUniform2dv = provider.getFunctionAddress("glUniform2dv");
-        glUniform3dv = provider.getFunctionAddress("glUniform3dv");
-        glUniform4dv = provider.getFunctionAddress("glUniform4dv");
-        glUniformMatrix2dv = provider.getFunctionAddress("glUniformMatrix2dv");
-        glUniformMatrix3dv = provider.getFunctionAddress("glUniformMatrix3dv");
-        glUniformMatrix4dv = provider.getFunctionAddress("glUniformMatrix4dv");
-        glUniformMatrix2x3dv = provider.getFunctionAddress("glUniformMatrix2x3dv");
-        glUniformMatrix2x4dv = provider.getFunctionAddress("glUniformMatrix2x4dv");
-        glUniformMatrix3x2dv = provider.getFunctionAddress("glUniformMatrix3x2dv");
-        glUniformMatrix3x4dv = provider.getFunctionAddress("glUniformMatrix3x4dv");
-        glUniformMatrix4x2dv = provider.getFunctionAddress("glUniformMatrix4x2dv");
-        glUniformMatrix4x3dv = provider.getFunctionAddress("glUniformMatrix4x3dv");
-        glGetUniformdv = provider.getFunctionAddress("glGetUniformdv");
-        glMinSampleShading = provider.getFunctionAddress("glMinSampleShading");
-        glGetSubroutineUniformLocation = provider.getFunctionAddress("glGetSubroutineUniformLocation");
-        glGetSubroutineIndex = provider.getFunctionAddress("glGetSubroutineIndex");
-        glGetActiveSubroutineUniformiv = provider.getFunctionAddress("glGetActiveSubroutineUniformiv");
-        glGetActiveSubroutineUniformName = provider.getFunctionAddress("glGetActiveSubroutineUniformName");
-        glGetActiveSubroutineName = provider.getFunctionAddress("glGetActiveSubroutineName");
-        glUniformSubroutinesuiv = provider.getFunctionAddress("glUniformSubroutinesuiv");
-        glGetUniformSubroutineuiv = provider.getFunctionAddress("glGetUniformSubroutineuiv");
-        glGetProgramStageiv = provider.getFunctionAddress("glGetProgramStageiv");
-        glPatchParameteri = provider.getFunctionAddress("glPatchParameteri");
-        glPatchParameterfv = provider.getFunctionAddress("glPatchParameterfv");
-        glBindTransformFeedback = provider.getFunctionAddress("glBindTransformFeedback");
-        glDeleteTransformFeedbacks = provider.getFunctionAddress("glDeleteTransformFeedbacks");
-        glGenTransformFeedbacks = provider.getFunctionAddress("glGenTransformFeedbacks");
-        glIsTransformFeedback = provider.getFunctionAddress("glIsTransformFeedback");
-        glPauseTransformFeedback = provider.getFunctionAddress("glPauseTransformFeedback");
-        glResumeTransformFeedback = provider.getFunctionAddress("glResumeTransformFeedback");
-        glDrawTransformFeedback = provider.getFunctionAddress("glDrawTransformFeedback");
-        glDrawTransformFeedbackStream = provider.getFunctionAddress("glDrawTransformFeedbackStream");
-        glBeginQueryIndexed = provider.getFunctionAddress("glBeginQueryIndexed");
-        glEndQueryIndexed = provider.getFunctionAddress("glEndQueryIndexed");
-        glGetQueryIndexediv = provider.getFunctionAddress("glGetQueryIndexediv");
-        glReleaseShaderCompiler = provider.getFunctionAddress("glReleaseShaderCompiler");
-        glShaderBinary = provider.getFunctionAddress("glShaderBinary");
-        glGetShaderPrecisionFormat = provider.getFunctionAddress("glGetShaderPrecisionFormat");
-        glDepthRangef = provider.getFunctionAddress("glDepthRangef");
-        glClearDepthf = provider.getFunctionAddress("glClearDepthf");
-        glGetProgramBinary = provider.getFunctionAddress("glGetProgramBinary");
-        glProgramBinary = provider.getFunctionAddress("glProgramBinary");
-        glProgramParameteri = provider.getFunctionAddress("glProgramParameteri");
-        glUseProgramStages = provider.getFunctionAddress("glUseProgramStages");
-        glActiveShaderProgram = provider.getFunctionAddress("glActiveShaderProgram");
-        glCreateShaderProgramv = provider.getFunctionAddress("glCreateShaderProgramv");
-        glBindProgramPipeline = provider.getFunctionAddress("glBindProgramPipeline");
-        glDeleteProgramPipelines = provider.getFunctionAddress("glDeleteProgramPipelines");
-        glGenProgramPipelines = provider.getFunctionAddress("glGenProgramPipelines");
-        glIsProgramPipeline = provider.getFunctionAddress("glIsProgramPipeline");
-        glGetProgramPipelineiv = provider.getFunctionAddress("glGetProgramPipelineiv");
-        glProgramUniform1i = provider.getFunctionAddress("glProgramUniform1i");
-        glProgramUniform2i = provider.getFunctionAddress("glProgramUniform2i");
-        glProgramUniform3i = provider.getFunctionAddress("glProgramUniform3i");
-        glProgramUniform4i = provider.getFunctionAddress("glProgramUniform4i");
-        glProgramUniform1ui = provider.getFunctionAddress("glProgramUniform1ui");
-        glProgramUniform2ui = provider.getFunctionAddress("glProgramUniform2ui");
-        glProgramUniform3ui = provider.getFunctionAddress("glProgramUniform3ui");
-        glProgramUniform4ui = provider.getFunctionAddress("glProgramUniform4ui");
-        glProgramUniform1f = provider.getFunctionAddress("glProgramUniform1f");
-        glProgramUniform2f = provider.getFunctionAddress("glProgramUniform2f");
-        glProgramUniform3f = provider.getFunctionAddress("glProgramUniform3f");
-        glProgramUniform4f = provider.getFunctionAddress("glProgramUniform4f");
-        glProgramUniform1d = provider.getFunctionAddress("glProgramUniform1d");
-        glProgramUniform2d = provider.getFunctionAddress("glProgramUniform2d");
-        glProgramUniform3d = provider.getFunctionAddress("glProgramUniform3d");
-        glProgramUniform4d = provider.getFunctionAddress("glProgramUniform4d");
-        glProgramUniform1iv = provider.getFunctionAddress("glProgramUniform1iv");
-        glProgramUniform2iv = provider.getFunctionAddress("glProgramUniform2iv");
-        glProgramUniform3iv = provider.getFunctionAddress("glProgramUniform3iv");
-        glProgramUniform4iv = provider.getFunctionAddress("glProgramUniform4iv");
-        glProgramUniform1uiv = provider.getFunctionAddress("glProgramUniform1uiv");
-        glProgramUniform2uiv = provider.getFunctionAddress("glProgramUniform2uiv");
-        glProgramUniform3uiv = provider.getFunctionAddress("glProgramUniform3uiv");
-        glProgramUniform4uiv = provider.getFunctionAddress("glProgramUniform4uiv");
-        glProgramUniform1fv = provider.getFunctionAddress("glProgramUniform1fv");
-        glProgramUniform2fv = provider.getFunctionAddress("glProgramUniform2fv");
-        glProgramUniform3fv = provider.getFunctionAddress("glProgramUniform3fv");
-        glProgramUniform4fv = provider.getFunctionAddress("glProgramUniform4fv");
-        glProgramUniform1dv = provider.getFunctionAddress("glProgramUniform1dv");
-        glProgramUniform2dv = provider.getFunctionAddress("glProgramUniform2dv");
-        glProgramUniform3dv = provider.getFunctionAddress("glProgramUniform3dv");
-        glProgramUniform4dv = provider.getFunctionAddress("glProgramUniform4dv");
-        glProgramUniformMatrix2fv = provider.getFunctionAddress("glProgramUniformMatrix2fv");
-        glProgramUniformMatrix3fv = provider.getFunctionAddress("glProgramUniformMatrix3fv");
-        glProgramUniformMatrix4fv = provider.getFunctionAddress("glProgramUniformMatrix4fv");
-        glProgramUniformMatrix2dv = provider.getFunctionAddress("glProgramUniformMatrix2dv");
-        glProgramUniformMatrix3dv = provider.getFunctionAddress("glProgramUniformMatrix3dv");
-        glProgramUniformMatrix4dv = provider.getFunctionAddress("glProgramUniformMatrix4dv");
-        glProgramUniformMatrix2x3fv = provider.getFunctionAddress("glProgramUniformMatrix2x3fv");
-        glProgramUniformMatrix3x2fv = provider.getFunctionAddress("glProgramUniformMatrix3x2fv");
-        glProgramUniformMatrix2x4fv = provider.getFunctionAddress("glProgramUniformMatrix2x4fv");
-        glProgramUniformMatrix4x2fv = provider.getFunctionAddress("glProgramUniformMatrix4x2fv");
-        glProgramUniformMatrix3x4fv = provider.getFunctionAddress("glProgramUniformMatrix3x4fv");
-        glProgramUniformMatrix4x3fv = provider.getFunctionAddress("glProgramUniformMatrix4x3fv");
-        glProgramUniformMatrix2x3dv = provider.getFunctionAddress("glProgramUniformMatrix2x3dv");
-        glProgramUniformMatrix3x2dv = provider.getFunctionAddress("glProgramUniformMatrix3x2dv");
-        glProgramUniformMatrix2x4dv = provider.getFunctionAddress("glProgramUniformMatrix2x4dv");
-        glProgramUniformMatrix4x2dv = provider.getFunctionAddress("glProgramUniformMatrix4x2dv");
-        glProgramUniformMatrix3x4dv = provider.getFunctionAddress("glProgramUniformMatrix3x4dv");
-        glProgramUniformMatrix4x3dv = provider.getFunctionAddress("glProgramUniformMatrix4x3dv");
-        glValidateProgramPipeline = provider.getFunctionAddress("glValidateProgramPipeline");
-        glGetProgramPipelineInfoLog = provider.getFunctionAddress("glGetProgramPipelineInfoLog");
-        glVertexAttribL1d = provider.getFunctionAddress("glVertexAttribL1d");
-        glVertexAttribL2d = provider.getFunctionAddress("glVertexAttribL2d");
-        glVertexAttribL3d = provider.getFunctionAddress("glVertexAttribL3d");
-        glVertexAttribL4d = provider.getFunctionAddress("glVertexAttribL4d");
-        glVertexAttribL1dv = provider.getFunctionAddress("glVertexAttribL1dv");
-        glVertexAttribL2dv = provider.getFunctionAddress("glVertexAttribL2dv");
-        glVertexAttribL3dv = provider.getFunctionAddress("glVertexAttribL3dv");
-        glVertexAttribL4dv = provider.getFunctionAddress("glVertexAttribL4dv");
-        glVertexAttribLPointer = provider.getFunctionAddress("glVertexAttribLPointer");
-        glGetVertexAttribLdv = provider.getFunctionAddress("glGetVertexAttribLdv");
-        glViewportArrayv = provider.getFunctionAddress("glViewportArrayv");
-        glViewportIndexedf = provider.getFunctionAddress("glViewportIndexedf");
-        glViewportIndexedfv = provider.getFunctionAddress("glViewportIndexedfv");
-        glScissorArrayv = provider.getFunctionAddress("glScissorArrayv");
-        glScissorIndexed = provider.getFunctionAddress("glScissorIndexed");
-        glScissorIndexedv = provider.getFunctionAddress("glScissorIndexedv");
-        glDepthRangeArrayv = provider.getFunctionAddress("glDepthRangeArrayv");
-        glDepthRangeIndexed = provider.getFunctionAddress("glDepthRangeIndexed");
-        glGetFloati_v = provider.getFunctionAddress("glGetFloati_v");
-        glGetDoublei_v = provider.getFunctionAddress("glGetDoublei_v");
-        glGetActiveAtomicCounterBufferiv = provider.getFunctionAddress("glGetActiveAtomicCounterBufferiv");
-        glTexStorage1D = provider.getFunctionAddress("glTexStorage1D");
-        glTexStorage2D = provider.getFunctionAddress("glTexStorage2D");
-        glTexStorage3D = provider.getFunctionAddress("glTexStorage3D");
-        glDrawTransformFeedbackInstanced = provider.getFunctionAddress("glDrawTransformFeedbackInstanced");
-        glDrawTransformFeedbackStreamInstanced = provider.getFunctionAddress("glDrawTransformFeedbackStreamInstanced");
-        glDrawArraysInstancedBaseInstance = provider.getFunctionAddress("glDrawArraysInstancedBaseInstance");
-        glDrawElementsInstancedBaseInstance = provider.getFunctionAddress("glDrawElementsInstancedBaseInstance");
-        glDrawElementsInstancedBaseVertexBaseInstance = provider.getFunctionAddress("glDrawElementsInstancedBaseVertexBaseInstance");
-        glBindImageTexture = provider.getFunctionAddress("glBindImageTexture");
-        glMemoryBarrier = provider.getFunctionAddress("glMemoryBarrier");
-        glGetInternalformativ = provider.getFunctionAddress("glGetInternalformativ");
-        glClearBufferData = provider.getFunctionAddress("glClearBufferData");
-        glClearBufferSubData = provider.getFunctionAddress("glClearBufferSubData");
-        glDispatchCompute = provider.getFunctionAddress("glDispatchCompute");
-        glDispatchComputeIndirect = provider.getFunctionAddress("glDispatchComputeIndirect");
-        glCopyImageSubData = provider.getFunctionAddress("glCopyImageSubData");
-        glDebugMessageControl = provider.getFunctionAddress("glDebugMessageControl");
-        glDebugMessageInsert = provider.getFunctionAddress("glDebugMessageInsert");
-        glDebugMessageCallback = provider.getFunctionAddress("glDebugMessageCallback");
-        glGetDebugMessageLog = provider.getFunctionAddress("glGetDebugMessageLog");
-        glPushDebugGroup = provider.getFunctionAddress("glPushDebugGroup");
-        glPopDebugGroup = provider.getFunctionAddress("glPopDebugGroup");
-        glObjectLabel = provider.getFunctionAddress("glObjectLabel");
-        glGetObjectLabel = provider.getFunctionAddress("glGetObjectLabel");
-        glObjectPtrLabel = provider.getFunctionAddress("glObjectPtrLabel");
-        glGetObjectPtrLabel = provider.getFunctionAddress("glGetObjectPtrLabel");
-        glFramebufferParameteri = provider.getFunctionAddress("glFramebufferParameteri");
-        glGetFramebufferParameteriv = provider.getFunctionAddress("glGetFramebufferParameteriv");
-        glGetInternalformati64v = provider.getFunctionAddress("glGetInternalformati64v");
-        glInvalidateTexSubImage = provider.getFunctionAddress("glInvalidateTexSubImage");
-        glInvalidateTexImage = provider.getFunctionAddress("glInvalidateTexImage");
-        glInvalidateBufferSubData = provider.getFunctionAddress("glInvalidateBufferSubData");
-        glInvalidateBufferData = provider.getFunctionAddress("glInvalidateBufferData");
-        glInvalidateFramebuffer = provider.getFunctionAddress("glInvalidateFramebuffer");
-        glInvalidateSubFramebuffer = provider.getFunctionAddress("glInvalidateSubFramebuffer");
-        glMultiDrawArraysIndirect = provider.getFunctionAddress("glMultiDrawArraysIndirect");
-        glMultiDrawElementsIndirect = provider.getFunctionAddress("glMultiDrawElementsIndirect");
-        glGetProgramInterfaceiv = provider.getFunctionAddress("glGetProgramInterfaceiv");
-        glGetProgramResourceIndex = provider.getFunctionAddress("glGetProgramResourceIndex");
-        glGetProgramResourceName = provider.getFunctionAddress("glGetProgramResourceName");
-        glGetProgramResourceiv = provider.getFunctionAddress("glGetProgramResourceiv");
-        glGetProgramResourceLocation = provider.getFunctionAddress("glGetProgramResourceLocation");
-        glGetProgramResourceLocationIndex = provider.getFunctionAddress("glGetProgramResourceLocationIndex");
-        glShaderStorageBlockBinding = provider.getFunctionAddress("glShaderStorageBlockBinding");
-        glTexBufferRange = provider.getFunctionAddress("glTexBufferRange");
-        glTexStorage2DMultisample = provider.getFunctionAddress("glTexStorage2DMultisample");
-        glTexStorage3DMultisample = provider.getFunctionAddress("glTexStorage3DMultisample");
-        glTextureView = provider.getFunctionAddress("glTextureView");
-        glBindVertexBuffer = provider.getFunctionAddress("glBindVertexBuffer");
-        glVertexAttribFormat = provider.getFunctionAddress("glVertexAttribFormat");
-        glVertexAttribIFormat = provider.getFunctionAddress("glVertexAttribIFormat");
-        glVertexAttribLFormat = provider.getFunctionAddress("glVertexAttribLFormat");
-        glVertexAttribBinding = provider.getFunctionAddress("glVertexAttribBinding");
-        glVertexBindingDivisor = provider.getFunctionAddress("glVertexBindingDivisor");
-        glBufferStorage = provider.getFunctionAddress("glBufferStorage");
-        glClearTexSubImage = provider.getFunctionAddress("glClearTexSubImage");
-        glClearTexImage = provider.getFunctionAddress("glClearTexImage");
-        glBindBuffersBase = provider.getFunctionAddress("glBindBuffersBase");
-        glBindBuffersRange = provider.getFunctionAddress("glBindBuffersRange");
-        glBindTextures = provider.getFunctionAddress("glBindTextures");
-        glBindSamplers = provider.getFunctionAddress("glBindSamplers");
-        glBindImageTextures = provider.getFunctionAddress("glBindImageTextures");
-        glBindVertexBuffers = provider.getFunctionAddress("glBindVertexBuffers");
-        glGetnMapdv = provider.getFunctionAddress("glGetnMapdv");
-        glGetnMapfv = provider.getFunctionAddress("glGetnMapfv");
-        glGetnMapiv = provider.getFunctionAddress("glGetnMapiv");
-        glGetnPixelMapfv = provider.getFunctionAddress("glGetnPixelMapfv");
-        glGetnPixelMapuiv = provider.getFunctionAddress("glGetnPixelMapuiv");
-        glGetnPixelMapusv = provider.getFunctionAddress("glGetnPixelMapusv");
-        glGetnPolygonStipple = provider.getFunctionAddress("glGetnPolygonStipple");
-        glGetnColorTable = provider.getFunctionAddress("glGetnColorTable");
-        glGetnConvolutionFilter = provider.getFunctionAddress("glGetnConvolutionFilter");
-        glGetnSeparableFilter = provider.getFunctionAddress("glGetnSeparableFilter");
-        glGetnHistogram = provider.getFunctionAddress("glGetnHistogram");
-        glGetnMinmax = provider.getFunctionAddress("glGetnMinmax");
-        glClipControl = provider.getFunctionAddress("glClipControl");
-        glCreateTransformFeedbacks = provider.getFunctionAddress("glCreateTransformFeedbacks");
-        glTransformFeedbackBufferBase = provider.getFunctionAddress("glTransformFeedbackBufferBase");
-        glTransformFeedbackBufferRange = provider.getFunctionAddress("glTransformFeedbackBufferRange");
-        glGetTransformFeedbackiv = provider.getFunctionAddress("glGetTransformFeedbackiv");
-        glGetTransformFeedbacki_v = provider.getFunctionAddress("glGetTransformFeedbacki_v");
-        glGetTransformFeedbacki64_v = provider.getFunctionAddress("glGetTransformFeedbacki64_v");
-        glCreateBuffers = provider.getFunctionAddress("glCreateBuffers");
-        glNamedBufferStorage = provider.getFunctionAddress("glNamedBufferStorage");
-        glNamedBufferData = provider.getFunctionAddress("glNamedBufferData");
-        glNamedBufferSubData = provider.getFunctionAddress("glNamedBufferSubData");
-        glCopyNamedBufferSubData = provider.getFunctionAddress("glCopyNamedBufferSubData");
-        glClearNamedBufferData = provider.getFunctionAddress("glClearNamedBufferData");
-        glClearNamedBufferSubData = provider.getFunctionAddress("glClearNamedBufferSubData");
-        glMapNamedBuffer = provider.getFunctionAddress("glMapNamedBuffer");
-        glMapNamedBufferRange = provider.getFunctionAddress("glMapNamedBufferRange");
-        glUnmapNamedBuffer = provider.getFunctionAddress("glUnmapNamedBuffer");
-        glFlushMappedNamedBufferRange = provider.getFunctionAddress("glFlushMappedNamedBufferRange");
-        glGetNamedBufferParameteriv = provider.getFunctionAddress("glGetNamedBufferParameteriv");
-        glGetNamedBufferParameteri64v = provider.getFunctionAddress("glGetNamedBufferParameteri64v");
-        glGetNamedBufferPointerv = provider.getFunctionAddress("glGetNamedBufferPointerv");
-        glGetNamedBufferSubData = provider.getFunctionAddress("glGetNamedBufferSubData");
-        glCreateFramebuffers = provider.getFunctionAddress("glCreateFramebuffers");
-        glNamedFramebufferRenderbuffer = provider.getFunctionAddress("glNamedFramebufferRenderbuffer");
-        glNamedFramebufferParameteri = provider.getFunctionAddress("glNamedFramebufferParameteri");
-        glNamedFramebufferTexture = provider.getFunctionAddress("glNamedFramebufferTexture");
-        glNamedFramebufferTextureLayer = provider.getFunctionAddress("glNamedFramebufferTextureLayer");
-        glNamedFramebufferDrawBuffer = provider.getFunctionAddress("glNamedFramebufferDrawBuffer");
-        glNamedFramebufferDrawBuffers = provider.getFunctionAddress("glNamedFramebufferDrawBuffers");
-        glNamedFramebufferReadBuffer = provider.getFunctionAddress("glNamedFramebufferReadBuffer");
-        glInvalidateNamedFramebufferData = provider.getFunctionAddress("glInvalidateNamedFramebufferData");
-        glInvalidateNamedFramebufferSubData = provider.getFunctionAddress("glInvalidateNamedFramebufferSubData");
-        glClearNamedFramebufferiv = provider.getFunctionAddress("glClearNamedFramebufferiv");
-        glClearNamedFramebufferuiv = provider.getFunctionAddress("glClearNamedFramebufferuiv");
-        glClearNamedFramebufferfv = provider.getFunctionAddress("glClearNamedFramebufferfv");
-        glClearNamedFramebufferfi = provider.getFunctionAddress("glClearNamedFramebufferfi");
-        glBlitNamedFramebuffer = provider.getFunctionAddress("glBlitNamedFramebuffer");
-        glCheckNamedFramebufferStatus = provider.getFunctionAddress("glCheckNamedFramebufferStatus");
-        glGetNamedFramebufferParameteriv = provider.getFunctionAddress("glGetNamedFramebufferParameteriv");
-        glGetNamedFramebufferAttachmentParameteriv = provider.getFunctionAddress("glGetNamedFramebufferAttachmentParameteriv");
-        glCreateRenderbuffers = provider.getFunctionAddress("glCreateRenderbuffers");
-        glNamedRenderbufferStorage = provider.getFunctionAddress("glNamedRenderbufferStorage");
-        glNamedRenderbufferStorageMultisample = provider.getFunctionAddress("glNamedRenderbufferStorageMultisample");
-        glGetNamedRenderbufferParameteriv = provider.getFunctionAddress("glGetNamedRenderbufferParameteriv");
-        glCreateTextures = provider.getFunctionAddress("glCreateTextures");
-        glTextureBuffer = provider.getFunctionAddress("glTextureBuffer");
-        glTextureBufferRange = provider.getFunctionAddress("glTextureBufferRange");
-        glTextureStorage1D = provider.getFunctionAddress("glTextureStorage1D");
-        glTextureStorage2D = provider.getFunctionAddress("glTextureStorage2D");
-        glTextureStorage3D = provider.getFunctionAddress("glTextureStorage3D");
-        glTextureStorage2DMultisample = provider.getFunctionAddress("glTextureStorage2DMultisample");
-        glTextureStorage3DMultisample = provider.getFunctionAddress("glTextureStorage3DMultisample");
-        glTextureSubImage1D = provider.getFunctionAddress("glTextureSubImage1D");
-        glTextureSubImage2D = provider.getFunctionAddress("glTextureSubImage2D");
-        glTextureSubImage3D = provider.getFunctionAddress("glTextureSubImage3D");
-        glCompressedTextureSubImage1D = provider.getFunctionAddress("glCompressedTextureSubImage1D");
-        glCompressedTextureSubImage2D = provider.getFunctionAddress("glCompressedTextureSubImage2D");
-        glCompressedTextureSubImage3D = provider.getFunctionAddress("glCompressedTextureSubImage3D");
-        glCopyTextureSubImage1D = provider.getFunctionAddress("glCopyTextureSubImage1D");
-        glCopyTextureSubImage2D = provider.getFunctionAddress("glCopyTextureSubImage2D");
-        glCopyTextureSubImage3D = provider.getFunctionAddress("glCopyTextureSubImage3D");
-        glTextureParameterf = provider.getFunctionAddress("glTextureParameterf");
-        glTextureParameterfv = provider.getFunctionAddress("glTextureParameterfv");
-        glTextureParameteri = provider.getFunctionAddress("glTextureParameteri");
-        glTextureParameterIiv = provider.getFunctionAddress("glTextureParameterIiv");
-        glTextureParameterIuiv = provider.getFunctionAddress("glTextureParameterIuiv");
-        glTextureParameteriv = provider.getFunctionAddress("glTextureParameteriv");
-        glGenerateTextureMipmap = provider.getFunctionAddress("glGenerateTextureMipmap");
-        glBindTextureUnit = provider.getFunctionAddress("glBindTextureUnit");
-        glGetTextureImage = provider.getFunctionAddress("glGetTextureImage");
-        glGetCompressedTextureImage = provider.getFunctionAddress("glGetCompressedTextureImage");
-        glGetTextureLevelParameterfv = provider.getFunctionAddress("glGetTextureLevelParameterfv");
-        glGetTextureLevelParameteriv = provider.getFunctionAddress("glGetTextureLevelParameteriv");
-        glGetTextureParameterfv = provider.getFunctionAddress("glGetTextureParameterfv");
-        glGetTextureParameterIiv = provider.getFunctionAddress("glGetTextureParameterIiv");
-        glGetTextureParameterIuiv = provider.getFunctionAddress("glGetTextureParameterIuiv");
-        glGetTextureParameteriv = provider.getFunctionAddress("glGetTextureParameteriv");
-        glCreateVertexArrays = provider.getFunctionAddress("glCreateVertexArrays");
-        glDisableVertexArrayAttrib = provider.getFunctionAddress("glDisableVertexArrayAttrib");
-        glEnableVertexArrayAttrib = provider.getFunctionAddress("glEnableVertexArrayAttrib");
-        glVertexArrayElementBuffer = provider.getFunctionAddress("glVertexArrayElementBuffer");
-        glVertexArrayVertexBuffer = provider.getFunctionAddress("glVertexArrayVertexBuffer");
-        glVertexArrayVertexBuffers = provider.getFunctionAddress("glVertexArrayVertexBuffers");
-        glVertexArrayAttribFormat = provider.getFunctionAddress("glVertexArrayAttribFormat");
-        glVertexArrayAttribIFormat = provider.getFunctionAddress("glVertexArrayAttribIFormat");
-        glVertexArrayAttribLFormat = provider.getFunctionAddress("glVertexArrayAttribLFormat");
-        glVertexArrayAttribBinding = provider.getFunctionAddress("glVertexArrayAttribBinding");
-        glVertexArrayBindingDivisor = provider.getFunctionAddress("glVertexArrayBindingDivisor");
-        glGetVertexArrayiv = provider.getFunctionAddress("glGetVertexArrayiv");
-        glGetVertexArrayIndexediv = provider.getFunctionAddress("glGetVertexArrayIndexediv");
-        glGetVertexArrayIndexed64iv = provider.getFunctionAddress("glGetVertexArrayIndexed64iv");
-        glCreateSamplers = provider.getFunctionAddress("glCreateSamplers");
-        glCreateProgramPipelines = provider.getFunctionAddress("glCreateProgramPipelines");
-        glCreateQueries = provider.getFunctionAddress("glCreateQueries");
-        glGetQueryBufferObjectiv = provider.getFunctionAddress("glGetQueryBufferObjectiv");
-        glGetQueryBufferObjectuiv = provider.getFunctionAddress("glGetQueryBufferObjectuiv");
-        glGetQueryBufferObjecti64v = provider.getFunctionAddress("glGetQueryBufferObjecti64v");
-        glGetQueryBufferObjectui64v = provider.getFunctionAddress("glGetQueryBufferObjectui64v");
-        glMemoryBarrierByRegion = provider.getFunctionAddress("glMemoryBarrierByRegion");
-        glGetTextureSubImage = provider.getFunctionAddress("glGetTextureSubImage");
-        glGetCompressedTextureSubImage = provider.getFunctionAddress("glGetCompressedTextureSubImage");
-        glTextureBarrier = provider.getFunctionAddress("glTextureBarrier");
-        glGetGraphicsResetStatus = provider.getFunctionAddress("glGetGraphicsResetStatus");
-        glGetnTexImage = provider.getFunctionAddress("glGetnTexImage");
-        glReadnPixels = provider.getFunctionAddress("glReadnPixels");
-        glGetnCompressedTexImage = provider.getFunctionAddress("glGetnCompressedTexImage");
-        glGetnUniformfv = provider.getFunctionAddress("glGetnUniformfv");
-        glGetnUniformdv = provider.getFunctionAddress("glGetnUniformdv");
-        glGetnUniformiv = provider.getFunctionAddress("glGetnUniformiv");
-        glGetnUniformuiv = provider.getFunctionAddress("glGetnUniformuiv");
-        glMultiDrawArraysIndirectCount = provider.getFunctionAddress("glMultiDrawArraysIndirectCount");
-        glMultiDrawElementsIndirectCount = provider.getFunctionAddress("glMultiDrawElementsIndirectCount");
-        glPolygonOffsetClamp = provider.getFunctionAddress("glPolygonOffsetClamp");
-        glSpecializeShader = provider.getFunctionAddress("glSpecializeShader");
-        glDebugMessageEnableAMD = provider.getFunctionAddress("glDebugMessageEnableAMD");
-        glDebugMessageInsertAMD = provider.getFunctionAddress("glDebugMessageInsertAMD");
-        glDebugMessageCallbackAMD = provider.getFunctionAddress("glDebugMessageCallbackAMD");
-        glGetDebugMessageLogAMD = provider.getFunctionAddress("glGetDebugMessageLogAMD");
-        glBlendFuncIndexedAMD = provider.getFunctionAddress("glBlendFuncIndexedAMD");
-        glBlendFuncSeparateIndexedAMD = provider.getFunctionAddress("glBlendFuncSeparateIndexedAMD");
-        glBlendEquationIndexedAMD = provider.getFunctionAddress("glBlendEquationIndexedAMD");
-        glBlendEquationSeparateIndexedAMD = provider.getFunctionAddress("glBlendEquationSeparateIndexedAMD");
-        glRenderbufferStorageMultisampleAdvancedAMD = provider.getFunctionAddress("glRenderbufferStorageMultisampleAdvancedAMD");
-        glNamedRenderbufferStorageMultisampleAdvancedAMD = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleAdvancedAMD");
-        glVertexAttribParameteriAMD = provider.getFunctionAddress("glVertexAttribParameteriAMD");
-        glQueryObjectParameteruiAMD = provider.getFunctionAddress("glQueryObjectParameteruiAMD");
-        glGetPerfMonitorGroupsAMD = provider.getFunctionAddress("glGetPerfMonitorGroupsAMD");
-        glGetPerfMonitorCountersAMD = provider.getFunctionAddress("glGetPerfMonitorCountersAMD");
-        glGetPerfMonitorGroupStringAMD = provider.getFunctionAddress("glGetPerfMonitorGroupStringAMD");
-        glGetPerfMonitorCounterStringAMD = provider.getFunctionAddress("glGetPerfMonitorCounterStringAMD");
-        glGetPerfMonitorCounterInfoAMD = provider.getFunctionAddress("glGetPerfMonitorCounterInfoAMD");
-        glGenPerfMonitorsAMD = provider.getFunctionAddress("glGenPerfMonitorsAMD");
-        glDeletePerfMonitorsAMD = provider.getFunctionAddress("glDeletePerfMonitorsAMD");
-        glSelectPerfMonitorCountersAMD = provider.getFunctionAddress("glSelectPerfMonitorCountersAMD");
-        glBeginPerfMonitorAMD = provider.getFunctionAddress("glBeginPerfMonitorAMD");
-        glEndPerfMonitorAMD = provider.getFunctionAddress("glEndPerfMonitorAMD");
-        glGetPerfMonitorCounterDataAMD = provider.getFunctionAddress("glGetPerfMonitorCounterDataAMD");
-        glSetMultisamplefvAMD = provider.getFunctionAddress("glSetMultisamplefvAMD");
-        glTexStorageSparseAMD = provider.getFunctionAddress("glTexStorageSparseAMD");
-        glTextureStorageSparseAMD = provider.getFunctionAddress("glTextureStorageSparseAMD");
-        glStencilOpValueAMD = provider.getFunctionAddress("glStencilOpValueAMD");
-        glTessellationFactorAMD = provider.getFunctionAddress("glTessellationFactorAMD");
-        glTessellationModeAMD = provider.getFunctionAddress("glTessellationModeAMD");
-        glGetTextureHandleARB = provider.getFunctionAddress("glGetTextureHandleARB");
-        glGetTextureSamplerHandleARB = provider.getFunctionAddress("glGetTextureSamplerHandleARB");
-        glMakeTextureHandleResidentARB = provider.getFunctionAddress("glMakeTextureHandleResidentARB");
-        glMakeTextureHandleNonResidentARB = provider.getFunctionAddress("glMakeTextureHandleNonResidentARB");
-        glGetImageHandleARB = provider.getFunctionAddress("glGetImageHandleARB");
-        glMakeImageHandleResidentARB = provider.getFunctionAddress("glMakeImageHandleResidentARB");
-        glMakeImageHandleNonResidentARB = provider.getFunctionAddress("glMakeImageHandleNonResidentARB");
-        glUniformHandleui64ARB = provider.getFunctionAddress("glUniformHandleui64ARB");
-        glUniformHandleui64vARB = provider.getFunctionAddress("glUniformHandleui64vARB");
-        glProgramUniformHandleui64ARB = provider.getFunctionAddress("glProgramUniformHandleui64ARB");
-        glProgramUniformHandleui64vARB = provider.getFunctionAddress("glProgramUniformHandleui64vARB");
-        glIsTextureHandleResidentARB = provider.getFunctionAddress("glIsTextureHandleResidentARB");
-        glIsImageHandleResidentARB = provider.getFunctionAddress("glIsImageHandleResidentARB");
-        glVertexAttribL1ui64ARB = provider.getFunctionAddress("glVertexAttribL1ui64ARB");
-        glVertexAttribL1ui64vARB = provider.getFunctionAddress("glVertexAttribL1ui64vARB");
-        glGetVertexAttribLui64vARB = provider.getFunctionAddress("glGetVertexAttribLui64vARB");
-        glNamedBufferStorageEXT = provider.getFunctionAddress("glNamedBufferStorageEXT");
-        glCreateSyncFromCLeventARB = provider.getFunctionAddress("glCreateSyncFromCLeventARB");
-        glClearNamedBufferDataEXT = provider.getFunctionAddress("glClearNamedBufferDataEXT");
-        glClearNamedBufferSubDataEXT = provider.getFunctionAddress("glClearNamedBufferSubDataEXT");
-        glClampColorARB = provider.getFunctionAddress("glClampColorARB");
-        glDispatchComputeGroupSizeARB = provider.getFunctionAddress("glDispatchComputeGroupSizeARB");
-        glDebugMessageControlARB = provider.getFunctionAddress("glDebugMessageControlARB");
-        glDebugMessageInsertARB = provider.getFunctionAddress("glDebugMessageInsertARB");
-        glDebugMessageCallbackARB = provider.getFunctionAddress("glDebugMessageCallbackARB");
-        glGetDebugMessageLogARB = provider.getFunctionAddress("glGetDebugMessageLogARB");
-        glDrawBuffersARB = provider.getFunctionAddress("glDrawBuffersARB");
-        glBlendEquationiARB = provider.getFunctionAddress("glBlendEquationiARB");
-        glBlendEquationSeparateiARB = provider.getFunctionAddress("glBlendEquationSeparateiARB");
-        glBlendFunciARB = provider.getFunctionAddress("glBlendFunciARB");
-        glBlendFuncSeparateiARB = provider.getFunctionAddress("glBlendFuncSeparateiARB");
-        glDrawArraysInstancedARB = provider.getFunctionAddress("glDrawArraysInstancedARB");
-        glDrawElementsInstancedARB = provider.getFunctionAddress("glDrawElementsInstancedARB");
-        glPrimitiveBoundingBoxARB = provider.getFunctionAddress("glPrimitiveBoundingBoxARB");
-        glNamedFramebufferParameteriEXT = provider.getFunctionAddress("glNamedFramebufferParameteriEXT");
-        glGetNamedFramebufferParameterivEXT = provider.getFunctionAddress("glGetNamedFramebufferParameterivEXT");
-        glProgramParameteriARB = provider.getFunctionAddress("glProgramParameteriARB");
-        glFramebufferTextureARB = provider.getFunctionAddress("glFramebufferTextureARB");
-        glFramebufferTextureLayerARB = provider.getFunctionAddress("glFramebufferTextureLayerARB");
-        glFramebufferTextureFaceARB = provider.getFunctionAddress("glFramebufferTextureFaceARB");
-        glSpecializeShaderARB = provider.getFunctionAddress("glSpecializeShaderARB");
-        glProgramUniform1dEXT = provider.getFunctionAddress("glProgramUniform1dEXT");
-        glProgramUniform2dEXT = provider.getFunctionAddress("glProgramUniform2dEXT");
-        glProgramUniform3dEXT = provider.getFunctionAddress("glProgramUniform3dEXT");
-        glProgramUniform4dEXT = provider.getFunctionAddress("glProgramUniform4dEXT");
-        glProgramUniform1dvEXT = provider.getFunctionAddress("glProgramUniform1dvEXT");
-        glProgramUniform2dvEXT = provider.getFunctionAddress("glProgramUniform2dvEXT");
-        glProgramUniform3dvEXT = provider.getFunctionAddress("glProgramUniform3dvEXT");
-        glProgramUniform4dvEXT = provider.getFunctionAddress("glProgramUniform4dvEXT");
-        glProgramUniformMatrix2dvEXT = provider.getFunctionAddress("glProgramUniformMatrix2dvEXT");
-        glProgramUniformMatrix3dvEXT = provider.getFunctionAddress("glProgramUniformMatrix3dvEXT");
-        glProgramUniformMatrix4dvEXT = provider.getFunctionAddress("glProgramUniformMatrix4dvEXT");
-        glProgramUniformMatrix2x3dvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x3dvEXT");
-        glProgramUniformMatrix2x4dvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x4dvEXT");
-        glProgramUniformMatrix3x2dvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x2dvEXT");
-        glProgramUniformMatrix3x4dvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x4dvEXT");
-        glProgramUniformMatrix4x2dvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x2dvEXT");
-        glProgramUniformMatrix4x3dvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x3dvEXT");
-        glUniform1i64ARB = provider.getFunctionAddress("glUniform1i64ARB");
-        glUniform1i64vARB = provider.getFunctionAddress("glUniform1i64vARB");
-        glProgramUniform1i64ARB = provider.getFunctionAddress("glProgramUniform1i64ARB");
-        glProgramUniform1i64vARB = provider.getFunctionAddress("glProgramUniform1i64vARB");
-        glUniform2i64ARB = provider.getFunctionAddress("glUniform2i64ARB");
-        glUniform2i64vARB = provider.getFunctionAddress("glUniform2i64vARB");
-        glProgramUniform2i64ARB = provider.getFunctionAddress("glProgramUniform2i64ARB");
-        glProgramUniform2i64vARB = provider.getFunctionAddress("glProgramUniform2i64vARB");
-        glUniform3i64ARB = provider.getFunctionAddress("glUniform3i64ARB");
-        glUniform3i64vARB = provider.getFunctionAddress("glUniform3i64vARB");
-        glProgramUniform3i64ARB = provider.getFunctionAddress("glProgramUniform3i64ARB");
-        glProgramUniform3i64vARB = provider.getFunctionAddress("glProgramUniform3i64vARB");
-        glUniform4i64ARB = provider.getFunctionAddress("glUniform4i64ARB");
-        glUniform4i64vARB = provider.getFunctionAddress("glUniform4i64vARB");
-        glProgramUniform4i64ARB = provider.getFunctionAddress("glProgramUniform4i64ARB");
-        glProgramUniform4i64vARB = provider.getFunctionAddress("glProgramUniform4i64vARB");
-        glUniform1ui64ARB = provider.getFunctionAddress("glUniform1ui64ARB");
-        glUniform1ui64vARB = provider.getFunctionAddress("glUniform1ui64vARB");
-        glProgramUniform1ui64ARB = provider.getFunctionAddress("glProgramUniform1ui64ARB");
-        glProgramUniform1ui64vARB = provider.getFunctionAddress("glProgramUniform1ui64vARB");
-        glUniform2ui64ARB = provider.getFunctionAddress("glUniform2ui64ARB");
-        glUniform2ui64vARB = provider.getFunctionAddress("glUniform2ui64vARB");
-        glProgramUniform2ui64ARB = provider.getFunctionAddress("glProgramUniform2ui64ARB");
-        glProgramUniform2ui64vARB = provider.getFunctionAddress("glProgramUniform2ui64vARB");
-        glUniform3ui64ARB = provider.getFunctionAddress("glUniform3ui64ARB");
-        glUniform3ui64vARB = provider.getFunctionAddress("glUniform3ui64vARB");
-        glProgramUniform3ui64ARB = provider.getFunctionAddress("glProgramUniform3ui64ARB");
-        glProgramUniform3ui64vARB = provider.getFunctionAddress("glProgramUniform3ui64vARB");
-        glUniform4ui64ARB = provider.getFunctionAddress("glUniform4ui64ARB");
-        glUniform4ui64vARB = provider.getFunctionAddress("glUniform4ui64vARB");
-        glProgramUniform4ui64ARB = provider.getFunctionAddress("glProgramUniform4ui64ARB");
-        glProgramUniform4ui64vARB = provider.getFunctionAddress("glProgramUniform4ui64vARB");
-        glGetUniformi64vARB = provider.getFunctionAddress("glGetUniformi64vARB");
-        glGetUniformui64vARB = provider.getFunctionAddress("glGetUniformui64vARB");
-        glGetnUniformi64vARB = provider.getFunctionAddress("glGetnUniformi64vARB");
-        glGetnUniformui64vARB = provider.getFunctionAddress("glGetnUniformui64vARB");
-        glColorTable = getFunctionAddress(fc, provider, "glColorTable");
-        glCopyColorTable = getFunctionAddress(fc, provider, "glCopyColorTable");
-        glColorTableParameteriv = getFunctionAddress(fc, provider, "glColorTableParameteriv");
-        glColorTableParameterfv = getFunctionAddress(fc, provider, "glColorTableParameterfv");
-        glGetColorTable = getFunctionAddress(fc, provider, "glGetColorTable");
-        glGetColorTableParameteriv = getFunctionAddress(fc, provider, "glGetColorTableParameteriv");
-        glGetColorTableParameterfv = getFunctionAddress(fc, provider, "glGetColorTableParameterfv");
-        glColorSubTable = getFunctionAddress(fc, provider, "glColorSubTable");
-        glCopyColorSubTable = getFunctionAddress(fc, provider, "glCopyColorSubTable");
-        glConvolutionFilter1D = getFunctionAddress(fc, provider, "glConvolutionFilter1D");
-        glConvolutionFilter2D = getFunctionAddress(fc, provider, "glConvolutionFilter2D");
-        glCopyConvolutionFilter1D = getFunctionAddress(fc, provider, "glCopyConvolutionFilter1D");
-        glCopyConvolutionFilter2D = getFunctionAddress(fc, provider, "glCopyConvolutionFilter2D");
-        glGetConvolutionFilter = getFunctionAddress(fc, provider, "glGetConvolutionFilter");
-        glSeparableFilter2D = getFunctionAddress(fc, provider, "glSeparableFilter2D");
-        glGetSeparableFilter = getFunctionAddress(fc, provider, "glGetSeparableFilter");
-        glConvolutionParameteri = getFunctionAddress(fc, provider, "glConvolutionParameteri");
-        glConvolutionParameteriv = getFunctionAddress(fc, provider, "glConvolutionParameteriv");
-        glConvolutionParameterf = getFunctionAddress(fc, provider, "glConvolutionParameterf");
-        glConvolutionParameterfv = getFunctionAddress(fc, provider, "glConvolutionParameterfv");
-        glGetConvolutionParameteriv = getFunctionAddress(fc, provider, "glGetConvolutionParameteriv");
-        glGetConvolutionParameterfv = getFunctionAddress(fc, provider, "glGetConvolutionParameterfv");
-        glHistogram = getFunctionAddress(fc, provider, "glHistogram");
-        glResetHistogram = getFunctionAddress(fc, provider, "glResetHistogram");
-        glGetHistogram = getFunctionAddress(fc, provider, "glGetHistogram");
-        glGetHistogramParameteriv = getFunctionAddress(fc, provider, "glGetHistogramParameteriv");
-        glGetHistogramParameterfv = getFunctionAddress(fc, provider, "glGetHistogramParameterfv");
-        glMinmax = getFunctionAddress(fc, provider, "glMinmax");
-        glResetMinmax = getFunctionAddress(fc, provider, "glResetMinmax");
-        glGetMinmax = getFunctionAddress(fc, provider, "glGetMinmax");
-        glGetMinmaxParameteriv = getFunctionAddress(fc, provider, "glGetMinmaxParameteriv");
-        glGetMinmaxParameterfv = getFunctionAddress(fc, provider, "glGetMinmaxParameterfv");
-        glMultiDrawArraysIndirectCountARB = provider.getFunctionAddress("glMultiDrawArraysIndirectCountARB");
-        glMultiDrawElementsIndirectCountARB = provider.getFunctionAddress("glMultiDrawElementsIndirectCountARB");
-        glVertexAttribDivisorARB = provider.getFunctionAddress("glVertexAttribDivisorARB");
-        glVertexArrayVertexAttribDivisorEXT = provider.getFunctionAddress("glVertexArrayVertexAttribDivisorEXT");
-        glCurrentPaletteMatrixARB = provider.getFunctionAddress("glCurrentPaletteMatrixARB");
-        glMatrixIndexuivARB = provider.getFunctionAddress("glMatrixIndexuivARB");
-        glMatrixIndexubvARB = provider.getFunctionAddress("glMatrixIndexubvARB");
-        glMatrixIndexusvARB = provider.getFunctionAddress("glMatrixIndexusvARB");
-        glMatrixIndexPointerARB = provider.getFunctionAddress("glMatrixIndexPointerARB");
-        glSampleCoverageARB = provider.getFunctionAddress("glSampleCoverageARB");
-        glActiveTextureARB = provider.getFunctionAddress("glActiveTextureARB");
-        glClientActiveTextureARB = provider.getFunctionAddress("glClientActiveTextureARB");
-        glMultiTexCoord1fARB = provider.getFunctionAddress("glMultiTexCoord1fARB");
-        glMultiTexCoord1sARB = provider.getFunctionAddress("glMultiTexCoord1sARB");
-        glMultiTexCoord1iARB = provider.getFunctionAddress("glMultiTexCoord1iARB");
-        glMultiTexCoord1dARB = provider.getFunctionAddress("glMultiTexCoord1dARB");
-        glMultiTexCoord1fvARB = provider.getFunctionAddress("glMultiTexCoord1fvARB");
-        glMultiTexCoord1svARB = provider.getFunctionAddress("glMultiTexCoord1svARB");
-        glMultiTexCoord1ivARB = provider.getFunctionAddress("glMultiTexCoord1ivARB");
-        glMultiTexCoord1dvARB = provider.getFunctionAddress("glMultiTexCoord1dvARB");
-        glMultiTexCoord2fARB = provider.getFunctionAddress("glMultiTexCoord2fARB");
-        glMultiTexCoord2sARB = provider.getFunctionAddress("glMultiTexCoord2sARB");
-        glMultiTexCoord2iARB = provider.getFunctionAddress("glMultiTexCoord2iARB");
-        glMultiTexCoord2dARB = provider.getFunctionAddress("glMultiTexCoord2dARB");
-        glMultiTexCoord2fvARB = provider.getFunctionAddress("glMultiTexCoord2fvARB");
-        glMultiTexCoord2svARB = provider.getFunctionAddress("glMultiTexCoord2svARB");
-        glMultiTexCoord2ivARB = provider.getFunctionAddress("glMultiTexCoord2ivARB");
-        glMultiTexCoord2dvARB = provider.getFunctionAddress("glMultiTexCoord2dvARB");
-        glMultiTexCoord3fARB = provider.getFunctionAddress("glMultiTexCoord3fARB");
-        glMultiTexCoord3sARB = provider.getFunctionAddress("glMultiTexCoord3sARB");
-        glMultiTexCoord3iARB = provider.getFunctionAddress("glMultiTexCoord3iARB");
-        glMultiTexCoord3dARB = provider.getFunctionAddress("glMultiTexCoord3dARB");
-        glMultiTexCoord3fvARB = provider.getFunctionAddress("glMultiTexCoord3fvARB");
-        glMultiTexCoord3svARB = provider.getFunctionAddress("glMultiTexCoord3svARB");
-        glMultiTexCoord3ivARB = provider.getFunctionAddress("glMultiTexCoord3ivARB");
-        glMultiTexCoord3dvARB = provider.getFunctionAddress("glMultiTexCoord3dvARB");
-        glMultiTexCoord4fARB = provider.getFunctionAddress("glMultiTexCoord4fARB");
-        glMultiTexCoord4sARB = provider.getFunctionAddress("glMultiTexCoord4sARB");
-        glMultiTexCoord4iARB = provider.getFunctionAddress("glMultiTexCoord4iARB");
-        glMultiTexCoord4dARB = provider.getFunctionAddress("glMultiTexCoord4dARB");
-        glMultiTexCoord4fvARB = provider.getFunctionAddress("glMultiTexCoord4fvARB");
-        glMultiTexCoord4svARB = provider.getFunctionAddress("glMultiTexCoord4svARB");
-        glMultiTexCoord4ivARB = provider.getFunctionAddress("glMultiTexCoord4ivARB");
-        glMultiTexCoord4dvARB = provider.getFunctionAddress("glMultiTexCoord4dvARB");
-        glGenQueriesARB = provider.getFunctionAddress("glGenQueriesARB");
-        glDeleteQueriesARB = provider.getFunctionAddress("glDeleteQueriesARB");
-        glIsQueryARB = provider.getFunctionAddress("glIsQueryARB");
-        glBeginQueryARB = provider.getFunctionAddress("glBeginQueryARB");
-        glEndQueryARB = provider.getFunctionAddress("glEndQueryARB");
-        glGetQueryivARB = provider.getFunctionAddress("glGetQueryivARB");
-        glGetQueryObjectivARB = provider.getFunctionAddress("glGetQueryObjectivARB");
-        glGetQueryObjectuivARB = provider.getFunctionAddress("glGetQueryObjectuivARB");
-        glMaxShaderCompilerThreadsARB = provider.getFunctionAddress("glMaxShaderCompilerThreadsARB");
-        glPointParameterfARB = provider.getFunctionAddress("glPointParameterfARB");
-        glPointParameterfvARB = provider.getFunctionAddress("glPointParameterfvARB");
-        glGetGraphicsResetStatusARB = provider.getFunctionAddress("glGetGraphicsResetStatusARB");
-        glGetnMapdvARB = provider.getFunctionAddress("glGetnMapdvARB");
-        glGetnMapfvARB = provider.getFunctionAddress("glGetnMapfvARB");
-        glGetnMapivARB = provider.getFunctionAddress("glGetnMapivARB");
-        glGetnPixelMapfvARB = provider.getFunctionAddress("glGetnPixelMapfvARB");
-        glGetnPixelMapuivARB = provider.getFunctionAddress("glGetnPixelMapuivARB");
-        glGetnPixelMapusvARB = provider.getFunctionAddress("glGetnPixelMapusvARB");
-        glGetnPolygonStippleARB = provider.getFunctionAddress("glGetnPolygonStippleARB");
-        glGetnTexImageARB = provider.getFunctionAddress("glGetnTexImageARB");
-        glReadnPixelsARB = provider.getFunctionAddress("glReadnPixelsARB");
-        glGetnColorTableARB = provider.getFunctionAddress("glGetnColorTableARB");
-        glGetnConvolutionFilterARB = provider.getFunctionAddress("glGetnConvolutionFilterARB");
-        glGetnSeparableFilterARB = provider.getFunctionAddress("glGetnSeparableFilterARB");
-        glGetnHistogramARB = provider.getFunctionAddress("glGetnHistogramARB");
-        glGetnMinmaxARB = provider.getFunctionAddress("glGetnMinmaxARB");
-        glGetnCompressedTexImageARB = provider.getFunctionAddress("glGetnCompressedTexImageARB");
-        glGetnUniformfvARB = provider.getFunctionAddress("glGetnUniformfvARB");
-        glGetnUniformivARB = provider.getFunctionAddress("glGetnUniformivARB");
-        glGetnUniformuivARB = provider.getFunctionAddress("glGetnUniformuivARB");
-        glGetnUniformdvARB = provider.getFunctionAddress("glGetnUniformdvARB");
-        glFramebufferSampleLocationsfvARB = provider.getFunctionAddress("glFramebufferSampleLocationsfvARB");
-        glNamedFramebufferSampleLocationsfvARB = provider.getFunctionAddress("glNamedFramebufferSampleLocationsfvARB");
-        glEvaluateDepthValuesARB = provider.getFunctionAddress("glEvaluateDepthValuesARB");
-        glMinSampleShadingARB = provider.getFunctionAddress("glMinSampleShadingARB");
-        glDeleteObjectARB = provider.getFunctionAddress("glDeleteObjectARB");
-        glGetHandleARB = provider.getFunctionAddress("glGetHandleARB");
-        glDetachObjectARB = provider.getFunctionAddress("glDetachObjectARB");
-        glCreateShaderObjectARB = provider.getFunctionAddress("glCreateShaderObjectARB");
-        glShaderSourceARB = provider.getFunctionAddress("glShaderSourceARB");
-        glCompileShaderARB = provider.getFunctionAddress("glCompileShaderARB");
-        glCreateProgramObjectARB = provider.getFunctionAddress("glCreateProgramObjectARB");
-        glAttachObjectARB = provider.getFunctionAddress("glAttachObjectARB");
-        glLinkProgramARB = provider.getFunctionAddress("glLinkProgramARB");
-        glUseProgramObjectARB = provider.getFunctionAddress("glUseProgramObjectARB");
-        glValidateProgramARB = provider.getFunctionAddress("glValidateProgramARB");
-        glUniform1fARB = provider.getFunctionAddress("glUniform1fARB");
-        glUniform2fARB = provider.getFunctionAddress("glUniform2fARB");
-        glUniform3fARB = provider.getFunctionAddress("glUniform3fARB");
-        glUniform4fARB = provider.getFunctionAddress("glUniform4fARB");
-        glUniform1iARB = provider.getFunctionAddress("glUniform1iARB");
-        glUniform2iARB = provider.getFunctionAddress("glUniform2iARB");
-        glUniform3iARB = provider.getFunctionAddress("glUniform3iARB");
-        glUniform4iARB = provider.getFunctionAddress("glUniform4iARB");
-        glUniform1fvARB = provider.getFunctionAddress("glUniform1fvARB");
-        glUniform2fvARB = provider.getFunctionAddress("glUniform2fvARB");
-        glUniform3fvARB = provider.getFunctionAddress("glUniform3fvARB");
-        glUniform4fvARB = provider.getFunctionAddress("glUniform4fvARB");
-        glUniform1ivARB = provider.getFunctionAddress("glUniform1ivARB");
-        glUniform2ivARB = provider.getFunctionAddress("glUniform2ivARB");
-        glUniform3ivARB = provider.getFunctionAddress("glUniform3ivARB");
-        glUniform4ivARB = provider.getFunctionAddress("glUniform4ivARB");
-        glUniformMatrix2fvARB = provider.getFunctionAddress("glUniformMatrix2fvARB");
-        glUniformMatrix3fvARB = provider.getFunctionAddress("glUniformMatrix3fvARB");
-        glUniformMatrix4fvARB = provider.getFunctionAddress("glUniformMatrix4fvARB");
-        glGetObjectParameterfvARB = provider.getFunctionAddress("glGetObjectParameterfvARB");
-        glGetObjectParameterivARB = provider.getFunctionAddress("glGetObjectParameterivARB");
-        glGetInfoLogARB = provider.getFunctionAddress("glGetInfoLogARB");
-        glGetAttachedObjectsARB = provider.getFunctionAddress("glGetAttachedObjectsARB");
-        glGetUniformLocationARB = provider.getFunctionAddress("glGetUniformLocationARB");
-        glGetActiveUniformARB = provider.getFunctionAddress("glGetActiveUniformARB");
-        glGetUniformfvARB = provider.getFunctionAddress("glGetUniformfvARB");
-        glGetUniformivARB = provider.getFunctionAddress("glGetUniformivARB");
-        glGetShaderSourceARB = provider.getFunctionAddress("glGetShaderSourceARB");
-        glNamedStringARB = provider.getFunctionAddress("glNamedStringARB");
-        glDeleteNamedStringARB = provider.getFunctionAddress("glDeleteNamedStringARB");
-        glCompileShaderIncludeARB = provider.getFunctionAddress("glCompileShaderIncludeARB");
-        glIsNamedStringARB = provider.getFunctionAddress("glIsNamedStringARB");
-        glGetNamedStringARB = provider.getFunctionAddress("glGetNamedStringARB");
-        glGetNamedStringivARB = provider.getFunctionAddress("glGetNamedStringivARB");
-        glBufferPageCommitmentARB = provider.getFunctionAddress("glBufferPageCommitmentARB");
-        glNamedBufferPageCommitmentEXT = provider.getFunctionAddress("glNamedBufferPageCommitmentEXT");
-        glNamedBufferPageCommitmentARB = provider.getFunctionAddress("glNamedBufferPageCommitmentARB");
-        glTexPageCommitmentARB = provider.getFunctionAddress("glTexPageCommitmentARB");
-        glTexturePageCommitmentEXT = provider.getFunctionAddress("glTexturePageCommitmentEXT");
-        glTexBufferARB = provider.getFunctionAddress("glTexBufferARB");
-        glTextureBufferRangeEXT = provider.getFunctionAddress("glTextureBufferRangeEXT");
-        glCompressedTexImage3DARB = provider.getFunctionAddress("glCompressedTexImage3DARB");
-        glCompressedTexImage2DARB = provider.getFunctionAddress("glCompressedTexImage2DARB");
-        glCompressedTexImage1DARB = provider.getFunctionAddress("glCompressedTexImage1DARB");
-        glCompressedTexSubImage3DARB = provider.getFunctionAddress("glCompressedTexSubImage3DARB");
-        glCompressedTexSubImage2DARB = provider.getFunctionAddress("glCompressedTexSubImage2DARB");
-        glCompressedTexSubImage1DARB = provider.getFunctionAddress("glCompressedTexSubImage1DARB");
-        glGetCompressedTexImageARB = provider.getFunctionAddress("glGetCompressedTexImageARB");
-        glTextureStorage1DEXT = provider.getFunctionAddress("glTextureStorage1DEXT");
-        glTextureStorage2DEXT = provider.getFunctionAddress("glTextureStorage2DEXT");
-        glTextureStorage3DEXT = provider.getFunctionAddress("glTextureStorage3DEXT");
-        glTextureStorage2DMultisampleEXT = provider.getFunctionAddress("glTextureStorage2DMultisampleEXT");
-        glTextureStorage3DMultisampleEXT = provider.getFunctionAddress("glTextureStorage3DMultisampleEXT");
-        glLoadTransposeMatrixfARB = provider.getFunctionAddress("glLoadTransposeMatrixfARB");
-        glLoadTransposeMatrixdARB = provider.getFunctionAddress("glLoadTransposeMatrixdARB");
-        glMultTransposeMatrixfARB = provider.getFunctionAddress("glMultTransposeMatrixfARB");
-        glMultTransposeMatrixdARB = provider.getFunctionAddress("glMultTransposeMatrixdARB");
-        glVertexArrayVertexAttribLOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexAttribLOffsetEXT");
-        glVertexArrayBindVertexBufferEXT = provider.getFunctionAddress("glVertexArrayBindVertexBufferEXT");
-        glVertexArrayVertexAttribFormatEXT = provider.getFunctionAddress("glVertexArrayVertexAttribFormatEXT");
-        glVertexArrayVertexAttribIFormatEXT = provider.getFunctionAddress("glVertexArrayVertexAttribIFormatEXT");
-        glVertexArrayVertexAttribLFormatEXT = provider.getFunctionAddress("glVertexArrayVertexAttribLFormatEXT");
-        glVertexArrayVertexAttribBindingEXT = provider.getFunctionAddress("glVertexArrayVertexAttribBindingEXT");
-        glVertexArrayVertexBindingDivisorEXT = provider.getFunctionAddress("glVertexArrayVertexBindingDivisorEXT");
-        glWeightfvARB = provider.getFunctionAddress("glWeightfvARB");
-        glWeightbvARB = provider.getFunctionAddress("glWeightbvARB");
-        glWeightubvARB = provider.getFunctionAddress("glWeightubvARB");
-        glWeightsvARB = provider.getFunctionAddress("glWeightsvARB");
-        glWeightusvARB = provider.getFunctionAddress("glWeightusvARB");
-        glWeightivARB = provider.getFunctionAddress("glWeightivARB");
-        glWeightuivARB = provider.getFunctionAddress("glWeightuivARB");
-        glWeightdvARB = provider.getFunctionAddress("glWeightdvARB");
-        glWeightPointerARB = provider.getFunctionAddress("glWeightPointerARB");
-        glVertexBlendARB = provider.getFunctionAddress("glVertexBlendARB");
-        glBindBufferARB = provider.getFunctionAddress("glBindBufferARB");
-        glDeleteBuffersARB = provider.getFunctionAddress("glDeleteBuffersARB");
-        glGenBuffersARB = provider.getFunctionAddress("glGenBuffersARB");
-        glIsBufferARB = provider.getFunctionAddress("glIsBufferARB");
-        glBufferDataARB = provider.getFunctionAddress("glBufferDataARB");
-        glBufferSubDataARB = provider.getFunctionAddress("glBufferSubDataARB");
-        glGetBufferSubDataARB = provider.getFunctionAddress("glGetBufferSubDataARB");
-        glMapBufferARB = provider.getFunctionAddress("glMapBufferARB");
-        glUnmapBufferARB = provider.getFunctionAddress("glUnmapBufferARB");
-        glGetBufferParameterivARB = provider.getFunctionAddress("glGetBufferParameterivARB");
-        glGetBufferPointervARB = provider.getFunctionAddress("glGetBufferPointervARB");
-        glProgramStringARB = provider.getFunctionAddress("glProgramStringARB");
-        glBindProgramARB = provider.getFunctionAddress("glBindProgramARB");
-        glDeleteProgramsARB = provider.getFunctionAddress("glDeleteProgramsARB");
-        glGenProgramsARB = provider.getFunctionAddress("glGenProgramsARB");
-        glProgramEnvParameter4dARB = provider.getFunctionAddress("glProgramEnvParameter4dARB");
-        glProgramEnvParameter4dvARB = provider.getFunctionAddress("glProgramEnvParameter4dvARB");
-        glProgramEnvParameter4fARB = provider.getFunctionAddress("glProgramEnvParameter4fARB");
-        glProgramEnvParameter4fvARB = provider.getFunctionAddress("glProgramEnvParameter4fvARB");
-        glProgramLocalParameter4dARB = provider.getFunctionAddress("glProgramLocalParameter4dARB");
-        glProgramLocalParameter4dvARB = provider.getFunctionAddress("glProgramLocalParameter4dvARB");
-        glProgramLocalParameter4fARB = provider.getFunctionAddress("glProgramLocalParameter4fARB");
-        glProgramLocalParameter4fvARB = provider.getFunctionAddress("glProgramLocalParameter4fvARB");
-        glGetProgramEnvParameterfvARB = provider.getFunctionAddress("glGetProgramEnvParameterfvARB");
-        glGetProgramEnvParameterdvARB = provider.getFunctionAddress("glGetProgramEnvParameterdvARB");
-        glGetProgramLocalParameterfvARB = provider.getFunctionAddress("glGetProgramLocalParameterfvARB");
-        glGetProgramLocalParameterdvARB = provider.getFunctionAddress("glGetProgramLocalParameterdvARB");
-        glGetProgramivARB = provider.getFunctionAddress("glGetProgramivARB");
-        glGetProgramStringARB = provider.getFunctionAddress("glGetProgramStringARB");
-        glIsProgramARB = provider.getFunctionAddress("glIsProgramARB");
-        glVertexAttrib1fARB = provider.getFunctionAddress("glVertexAttrib1fARB");
-        glVertexAttrib1sARB = provider.getFunctionAddress("glVertexAttrib1sARB");
-        glVertexAttrib1dARB = provider.getFunctionAddress("glVertexAttrib1dARB");
-        glVertexAttrib2fARB = provider.getFunctionAddress("glVertexAttrib2fARB");
-        glVertexAttrib2sARB = provider.getFunctionAddress("glVertexAttrib2sARB");
-        glVertexAttrib2dARB = provider.getFunctionAddress("glVertexAttrib2dARB");
-        glVertexAttrib3fARB = provider.getFunctionAddress("glVertexAttrib3fARB");
-        glVertexAttrib3sARB = provider.getFunctionAddress("glVertexAttrib3sARB");
-        glVertexAttrib3dARB = provider.getFunctionAddress("glVertexAttrib3dARB");
-        glVertexAttrib4fARB = provider.getFunctionAddress("glVertexAttrib4fARB");
-        glVertexAttrib4sARB = provider.getFunctionAddress("glVertexAttrib4sARB");
-        glVertexAttrib4dARB = provider.getFunctionAddress("glVertexAttrib4dARB");
-        glVertexAttrib4NubARB = provider.getFunctionAddress("glVertexAttrib4NubARB");
-        glVertexAttrib1fvARB = provider.getFunctionAddress("glVertexAttrib1fvARB");
-        glVertexAttrib1svARB = provider.getFunctionAddress("glVertexAttrib1svARB");
-        glVertexAttrib1dvARB = provider.getFunctionAddress("glVertexAttrib1dvARB");
-        glVertexAttrib2fvARB = provider.getFunctionAddress("glVertexAttrib2fvARB");
-        glVertexAttrib2svARB = provider.getFunctionAddress("glVertexAttrib2svARB");
-        glVertexAttrib2dvARB = provider.getFunctionAddress("glVertexAttrib2dvARB");
-        glVertexAttrib3fvARB = provider.getFunctionAddress("glVertexAttrib3fvARB");
-        glVertexAttrib3svARB = provider.getFunctionAddress("glVertexAttrib3svARB");
-        glVertexAttrib3dvARB = provider.getFunctionAddress("glVertexAttrib3dvARB");
-        glVertexAttrib4fvARB = provider.getFunctionAddress("glVertexAttrib4fvARB");
-        glVertexAttrib4svARB = provider.getFunctionAddress("glVertexAttrib4svARB");
-        glVertexAttrib4dvARB = provider.getFunctionAddress("glVertexAttrib4dvARB");
-        glVertexAttrib4ivARB = provider.getFunctionAddress("glVertexAttrib4ivARB");
-        glVertexAttrib4bvARB = provider.getFunctionAddress("glVertexAttrib4bvARB");
-        glVertexAttrib4ubvARB = provider.getFunctionAddress("glVertexAttrib4ubvARB");
-        glVertexAttrib4usvARB = provider.getFunctionAddress("glVertexAttrib4usvARB");
-        glVertexAttrib4uivARB = provider.getFunctionAddress("glVertexAttrib4uivARB");
-        glVertexAttrib4NbvARB = provider.getFunctionAddress("glVertexAttrib4NbvARB");
-        glVertexAttrib4NsvARB = provider.getFunctionAddress("glVertexAttrib4NsvARB");
-        glVertexAttrib4NivARB = provider.getFunctionAddress("glVertexAttrib4NivARB");
-        glVertexAttrib4NubvARB = provider.getFunctionAddress("glVertexAttrib4NubvARB");
-        glVertexAttrib4NusvARB = provider.getFunctionAddress("glVertexAttrib4NusvARB");
-        glVertexAttrib4NuivARB = provider.getFunctionAddress("glVertexAttrib4NuivARB");
-        glVertexAttribPointerARB = provider.getFunctionAddress("glVertexAttribPointerARB");
-        glEnableVertexAttribArrayARB = provider.getFunctionAddress("glEnableVertexAttribArrayARB");
-        glDisableVertexAttribArrayARB = provider.getFunctionAddress("glDisableVertexAttribArrayARB");
-        glBindAttribLocationARB = provider.getFunctionAddress("glBindAttribLocationARB");
-        glGetActiveAttribARB = provider.getFunctionAddress("glGetActiveAttribARB");
-        glGetAttribLocationARB = provider.getFunctionAddress("glGetAttribLocationARB");
-        glGetVertexAttribivARB = provider.getFunctionAddress("glGetVertexAttribivARB");
-        glGetVertexAttribfvARB = provider.getFunctionAddress("glGetVertexAttribfvARB");
-        glGetVertexAttribdvARB = provider.getFunctionAddress("glGetVertexAttribdvARB");
-        glGetVertexAttribPointervARB = provider.getFunctionAddress("glGetVertexAttribPointervARB");
-        glWindowPos2iARB = provider.getFunctionAddress("glWindowPos2iARB");
-        glWindowPos2sARB = provider.getFunctionAddress("glWindowPos2sARB");
-        glWindowPos2fARB = provider.getFunctionAddress("glWindowPos2fARB");
-        glWindowPos2dARB = provider.getFunctionAddress("glWindowPos2dARB");
-        glWindowPos2ivARB = provider.getFunctionAddress("glWindowPos2ivARB");
-        glWindowPos2svARB = provider.getFunctionAddress("glWindowPos2svARB");
-        glWindowPos2fvARB = provider.getFunctionAddress("glWindowPos2fvARB");
-        glWindowPos2dvARB = provider.getFunctionAddress("glWindowPos2dvARB");
-        glWindowPos3iARB = provider.getFunctionAddress("glWindowPos3iARB");
-        glWindowPos3sARB = provider.getFunctionAddress("glWindowPos3sARB");
-        glWindowPos3fARB = provider.getFunctionAddress("glWindowPos3fARB");
-        glWindowPos3dARB = provider.getFunctionAddress("glWindowPos3dARB");
-        glWindowPos3ivARB = provider.getFunctionAddress("glWindowPos3ivARB");
-        glWindowPos3svARB = provider.getFunctionAddress("glWindowPos3svARB");
-        glWindowPos3fvARB = provider.getFunctionAddress("glWindowPos3fvARB");
-        glWindowPos3dvARB = provider.getFunctionAddress("glWindowPos3dvARB");
-        glUniformBufferEXT = provider.getFunctionAddress("glUniformBufferEXT");
-        glGetUniformBufferSizeEXT = provider.getFunctionAddress("glGetUniformBufferSizeEXT");
-        glGetUniformOffsetEXT = provider.getFunctionAddress("glGetUniformOffsetEXT");
-        glBlendColorEXT = provider.getFunctionAddress("glBlendColorEXT");
-        glBlendEquationSeparateEXT = provider.getFunctionAddress("glBlendEquationSeparateEXT");
-        glBlendFuncSeparateEXT = provider.getFunctionAddress("glBlendFuncSeparateEXT");
-        glBlendEquationEXT = provider.getFunctionAddress("glBlendEquationEXT");
-        glLockArraysEXT = provider.getFunctionAddress("glLockArraysEXT");
-        glUnlockArraysEXT = provider.getFunctionAddress("glUnlockArraysEXT");
-        glLabelObjectEXT = provider.getFunctionAddress("glLabelObjectEXT");
-        glGetObjectLabelEXT = provider.getFunctionAddress("glGetObjectLabelEXT");
-        glInsertEventMarkerEXT = provider.getFunctionAddress("glInsertEventMarkerEXT");
-        glPushGroupMarkerEXT = provider.getFunctionAddress("glPushGroupMarkerEXT");
-        glPopGroupMarkerEXT = provider.getFunctionAddress("glPopGroupMarkerEXT");
-        glDepthBoundsEXT = provider.getFunctionAddress("glDepthBoundsEXT");
-        glClientAttribDefaultEXT = provider.getFunctionAddress("glClientAttribDefaultEXT");
-        glPushClientAttribDefaultEXT = provider.getFunctionAddress("glPushClientAttribDefaultEXT");
-        glMatrixLoadfEXT = provider.getFunctionAddress("glMatrixLoadfEXT");
-        glMatrixLoaddEXT = provider.getFunctionAddress("glMatrixLoaddEXT");
-        glMatrixMultfEXT = provider.getFunctionAddress("glMatrixMultfEXT");
-        glMatrixMultdEXT = provider.getFunctionAddress("glMatrixMultdEXT");
-        glMatrixLoadIdentityEXT = provider.getFunctionAddress("glMatrixLoadIdentityEXT");
-        glMatrixRotatefEXT = provider.getFunctionAddress("glMatrixRotatefEXT");
-        glMatrixRotatedEXT = provider.getFunctionAddress("glMatrixRotatedEXT");
-        glMatrixScalefEXT = provider.getFunctionAddress("glMatrixScalefEXT");
-        glMatrixScaledEXT = provider.getFunctionAddress("glMatrixScaledEXT");
-        glMatrixTranslatefEXT = provider.getFunctionAddress("glMatrixTranslatefEXT");
-        glMatrixTranslatedEXT = provider.getFunctionAddress("glMatrixTranslatedEXT");
-        glMatrixOrthoEXT = provider.getFunctionAddress("glMatrixOrthoEXT");
-        glMatrixFrustumEXT = provider.getFunctionAddress("glMatrixFrustumEXT");
-        glMatrixPushEXT = provider.getFunctionAddress("glMatrixPushEXT");
-        glMatrixPopEXT = provider.getFunctionAddress("glMatrixPopEXT");
-        glTextureParameteriEXT = provider.getFunctionAddress("glTextureParameteriEXT");
-        glTextureParameterivEXT = provider.getFunctionAddress("glTextureParameterivEXT");
-        glTextureParameterfEXT = provider.getFunctionAddress("glTextureParameterfEXT");
-        glTextureParameterfvEXT = provider.getFunctionAddress("glTextureParameterfvEXT");
-        glTextureImage1DEXT = provider.getFunctionAddress("glTextureImage1DEXT");
-        glTextureImage2DEXT = provider.getFunctionAddress("glTextureImage2DEXT");
-        glTextureSubImage1DEXT = provider.getFunctionAddress("glTextureSubImage1DEXT");
-        glTextureSubImage2DEXT = provider.getFunctionAddress("glTextureSubImage2DEXT");
-        glCopyTextureImage1DEXT = provider.getFunctionAddress("glCopyTextureImage1DEXT");
-        glCopyTextureImage2DEXT = provider.getFunctionAddress("glCopyTextureImage2DEXT");
-        glCopyTextureSubImage1DEXT = provider.getFunctionAddress("glCopyTextureSubImage1DEXT");
-        glCopyTextureSubImage2DEXT = provider.getFunctionAddress("glCopyTextureSubImage2DEXT");
-        glGetTextureImageEXT = provider.getFunctionAddress("glGetTextureImageEXT");
-        glGetTextureParameterfvEXT = provider.getFunctionAddress("glGetTextureParameterfvEXT");
-        glGetTextureParameterivEXT = provider.getFunctionAddress("glGetTextureParameterivEXT");
-        glGetTextureLevelParameterfvEXT = provider.getFunctionAddress("glGetTextureLevelParameterfvEXT");
-        glGetTextureLevelParameterivEXT = provider.getFunctionAddress("glGetTextureLevelParameterivEXT");
-        glTextureImage3DEXT = provider.getFunctionAddress("glTextureImage3DEXT");
-        glTextureSubImage3DEXT = provider.getFunctionAddress("glTextureSubImage3DEXT");
-        glCopyTextureSubImage3DEXT = provider.getFunctionAddress("glCopyTextureSubImage3DEXT");
-        glBindMultiTextureEXT = provider.getFunctionAddress("glBindMultiTextureEXT");
-        glMultiTexCoordPointerEXT = provider.getFunctionAddress("glMultiTexCoordPointerEXT");
-        glMultiTexEnvfEXT = provider.getFunctionAddress("glMultiTexEnvfEXT");
-        glMultiTexEnvfvEXT = provider.getFunctionAddress("glMultiTexEnvfvEXT");
-        glMultiTexEnviEXT = provider.getFunctionAddress("glMultiTexEnviEXT");
-        glMultiTexEnvivEXT = provider.getFunctionAddress("glMultiTexEnvivEXT");
-        glMultiTexGendEXT = provider.getFunctionAddress("glMultiTexGendEXT");
-        glMultiTexGendvEXT = provider.getFunctionAddress("glMultiTexGendvEXT");
-        glMultiTexGenfEXT = provider.getFunctionAddress("glMultiTexGenfEXT");
-        glMultiTexGenfvEXT = provider.getFunctionAddress("glMultiTexGenfvEXT");
-        glMultiTexGeniEXT = provider.getFunctionAddress("glMultiTexGeniEXT");
-        glMultiTexGenivEXT = provider.getFunctionAddress("glMultiTexGenivEXT");
-        glGetMultiTexEnvfvEXT = provider.getFunctionAddress("glGetMultiTexEnvfvEXT");
-        glGetMultiTexEnvivEXT = provider.getFunctionAddress("glGetMultiTexEnvivEXT");
-        glGetMultiTexGendvEXT = provider.getFunctionAddress("glGetMultiTexGendvEXT");
-        glGetMultiTexGenfvEXT = provider.getFunctionAddress("glGetMultiTexGenfvEXT");
-        glGetMultiTexGenivEXT = provider.getFunctionAddress("glGetMultiTexGenivEXT");
-        glMultiTexParameteriEXT = provider.getFunctionAddress("glMultiTexParameteriEXT");
-        glMultiTexParameterivEXT = provider.getFunctionAddress("glMultiTexParameterivEXT");
-        glMultiTexParameterfEXT = provider.getFunctionAddress("glMultiTexParameterfEXT");
-        glMultiTexParameterfvEXT = provider.getFunctionAddress("glMultiTexParameterfvEXT");
-        glMultiTexImage1DEXT = provider.getFunctionAddress("glMultiTexImage1DEXT");
-        glMultiTexImage2DEXT = provider.getFunctionAddress("glMultiTexImage2DEXT");
-        glMultiTexSubImage1DEXT = provider.getFunctionAddress("glMultiTexSubImage1DEXT");
-        glMultiTexSubImage2DEXT = provider.getFunctionAddress("glMultiTexSubImage2DEXT");
-        glCopyMultiTexImage1DEXT = provider.getFunctionAddress("glCopyMultiTexImage1DEXT");
-        glCopyMultiTexImage2DEXT = provider.getFunctionAddress("glCopyMultiTexImage2DEXT");
-        glCopyMultiTexSubImage1DEXT = provider.getFunctionAddress("glCopyMultiTexSubImage1DEXT");
-        glCopyMultiTexSubImage2DEXT = provider.getFunctionAddress("glCopyMultiTexSubImage2DEXT");
-        glGetMultiTexImageEXT = provider.getFunctionAddress("glGetMultiTexImageEXT");
-        glGetMultiTexParameterfvEXT = provider.getFunctionAddress("glGetMultiTexParameterfvEXT");
-        glGetMultiTexParameterivEXT = provider.getFunctionAddress("glGetMultiTexParameterivEXT");
-        glGetMultiTexLevelParameterfvEXT = provider.getFunctionAddress("glGetMultiTexLevelParameterfvEXT");
-        glGetMultiTexLevelParameterivEXT = provider.getFunctionAddress("glGetMultiTexLevelParameterivEXT");
-        glMultiTexImage3DEXT = provider.getFunctionAddress("glMultiTexImage3DEXT");
-        glMultiTexSubImage3DEXT = provider.getFunctionAddress("glMultiTexSubImage3DEXT");
-        glCopyMultiTexSubImage3DEXT = provider.getFunctionAddress("glCopyMultiTexSubImage3DEXT");
-        glEnableClientStateIndexedEXT = provider.getFunctionAddress("glEnableClientStateIndexedEXT");
-        glDisableClientStateIndexedEXT = provider.getFunctionAddress("glDisableClientStateIndexedEXT");
-        glEnableClientStateiEXT = provider.getFunctionAddress("glEnableClientStateiEXT");
-        glDisableClientStateiEXT = provider.getFunctionAddress("glDisableClientStateiEXT");
-        glGetFloatIndexedvEXT = provider.getFunctionAddress("glGetFloatIndexedvEXT");
-        glGetDoubleIndexedvEXT = provider.getFunctionAddress("glGetDoubleIndexedvEXT");
-        glGetPointerIndexedvEXT = provider.getFunctionAddress("glGetPointerIndexedvEXT");
-        glGetFloati_vEXT = provider.getFunctionAddress("glGetFloati_vEXT");
-        glGetDoublei_vEXT = provider.getFunctionAddress("glGetDoublei_vEXT");
-        glGetPointeri_vEXT = provider.getFunctionAddress("glGetPointeri_vEXT");
-        glNamedProgramStringEXT = provider.getFunctionAddress("glNamedProgramStringEXT");
-        glNamedProgramLocalParameter4dEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4dEXT");
-        glNamedProgramLocalParameter4dvEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4dvEXT");
-        glNamedProgramLocalParameter4fEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4fEXT");
-        glNamedProgramLocalParameter4fvEXT = provider.getFunctionAddress("glNamedProgramLocalParameter4fvEXT");
-        glGetNamedProgramLocalParameterdvEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterdvEXT");
-        glGetNamedProgramLocalParameterfvEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterfvEXT");
-        glGetNamedProgramivEXT = provider.getFunctionAddress("glGetNamedProgramivEXT");
-        glGetNamedProgramStringEXT = provider.getFunctionAddress("glGetNamedProgramStringEXT");
-        glCompressedTextureImage3DEXT = provider.getFunctionAddress("glCompressedTextureImage3DEXT");
-        glCompressedTextureImage2DEXT = provider.getFunctionAddress("glCompressedTextureImage2DEXT");
-        glCompressedTextureImage1DEXT = provider.getFunctionAddress("glCompressedTextureImage1DEXT");
-        glCompressedTextureSubImage3DEXT = provider.getFunctionAddress("glCompressedTextureSubImage3DEXT");
-        glCompressedTextureSubImage2DEXT = provider.getFunctionAddress("glCompressedTextureSubImage2DEXT");
-        glCompressedTextureSubImage1DEXT = provider.getFunctionAddress("glCompressedTextureSubImage1DEXT");
-        glGetCompressedTextureImageEXT = provider.getFunctionAddress("glGetCompressedTextureImageEXT");
-        glCompressedMultiTexImage3DEXT = provider.getFunctionAddress("glCompressedMultiTexImage3DEXT");
-        glCompressedMultiTexImage2DEXT = provider.getFunctionAddress("glCompressedMultiTexImage2DEXT");
-        glCompressedMultiTexImage1DEXT = provider.getFunctionAddress("glCompressedMultiTexImage1DEXT");
-        glCompressedMultiTexSubImage3DEXT = provider.getFunctionAddress("glCompressedMultiTexSubImage3DEXT");
-        glCompressedMultiTexSubImage2DEXT = provider.getFunctionAddress("glCompressedMultiTexSubImage2DEXT");
-        glCompressedMultiTexSubImage1DEXT = provider.getFunctionAddress("glCompressedMultiTexSubImage1DEXT");
-        glGetCompressedMultiTexImageEXT = provider.getFunctionAddress("glGetCompressedMultiTexImageEXT");
-        glMatrixLoadTransposefEXT = provider.getFunctionAddress("glMatrixLoadTransposefEXT");
-        glMatrixLoadTransposedEXT = provider.getFunctionAddress("glMatrixLoadTransposedEXT");
-        glMatrixMultTransposefEXT = provider.getFunctionAddress("glMatrixMultTransposefEXT");
-        glMatrixMultTransposedEXT = provider.getFunctionAddress("glMatrixMultTransposedEXT");
-        glNamedBufferDataEXT = provider.getFunctionAddress("glNamedBufferDataEXT");
-        glNamedBufferSubDataEXT = provider.getFunctionAddress("glNamedBufferSubDataEXT");
-        glMapNamedBufferEXT = provider.getFunctionAddress("glMapNamedBufferEXT");
-        glUnmapNamedBufferEXT = provider.getFunctionAddress("glUnmapNamedBufferEXT");
-        glGetNamedBufferParameterivEXT = provider.getFunctionAddress("glGetNamedBufferParameterivEXT");
-        glGetNamedBufferSubDataEXT = provider.getFunctionAddress("glGetNamedBufferSubDataEXT");
-        glProgramUniform1fEXT = provider.getFunctionAddress("glProgramUniform1fEXT");
-        glProgramUniform2fEXT = provider.getFunctionAddress("glProgramUniform2fEXT");
-        glProgramUniform3fEXT = provider.getFunctionAddress("glProgramUniform3fEXT");
-        glProgramUniform4fEXT = provider.getFunctionAddress("glProgramUniform4fEXT");
-        glProgramUniform1iEXT = provider.getFunctionAddress("glProgramUniform1iEXT");
-        glProgramUniform2iEXT = provider.getFunctionAddress("glProgramUniform2iEXT");
-        glProgramUniform3iEXT = provider.getFunctionAddress("glProgramUniform3iEXT");
-        glProgramUniform4iEXT = provider.getFunctionAddress("glProgramUniform4iEXT");
-        glProgramUniform1fvEXT = provider.getFunctionAddress("glProgramUniform1fvEXT");
-        glProgramUniform2fvEXT = provider.getFunctionAddress("glProgramUniform2fvEXT");
-        glProgramUniform3fvEXT = provider.getFunctionAddress("glProgramUniform3fvEXT");
-        glProgramUniform4fvEXT = provider.getFunctionAddress("glProgramUniform4fvEXT");
-        glProgramUniform1ivEXT = provider.getFunctionAddress("glProgramUniform1ivEXT");
-        glProgramUniform2ivEXT = provider.getFunctionAddress("glProgramUniform2ivEXT");
-        glProgramUniform3ivEXT = provider.getFunctionAddress("glProgramUniform3ivEXT");
-        glProgramUniform4ivEXT = provider.getFunctionAddress("glProgramUniform4ivEXT");
-        glProgramUniformMatrix2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2fvEXT");
-        glProgramUniformMatrix3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3fvEXT");
-        glProgramUniformMatrix4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4fvEXT");
-        glProgramUniformMatrix2x3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x3fvEXT");
-        glProgramUniformMatrix3x2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x2fvEXT");
-        glProgramUniformMatrix2x4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix2x4fvEXT");
-        glProgramUniformMatrix4x2fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x2fvEXT");
-        glProgramUniformMatrix3x4fvEXT = provider.getFunctionAddress("glProgramUniformMatrix3x4fvEXT");
-        glProgramUniformMatrix4x3fvEXT = provider.getFunctionAddress("glProgramUniformMatrix4x3fvEXT");
-        glTextureBufferEXT = provider.getFunctionAddress("glTextureBufferEXT");
-        glMultiTexBufferEXT = provider.getFunctionAddress("glMultiTexBufferEXT");
-        glTextureParameterIivEXT = provider.getFunctionAddress("glTextureParameterIivEXT");
-        glTextureParameterIuivEXT = provider.getFunctionAddress("glTextureParameterIuivEXT");
-        glGetTextureParameterIivEXT = provider.getFunctionAddress("glGetTextureParameterIivEXT");
-        glGetTextureParameterIuivEXT = provider.getFunctionAddress("glGetTextureParameterIuivEXT");
-        glMultiTexParameterIivEXT = provider.getFunctionAddress("glMultiTexParameterIivEXT");
-        glMultiTexParameterIuivEXT = provider.getFunctionAddress("glMultiTexParameterIuivEXT");
-        glGetMultiTexParameterIivEXT = provider.getFunctionAddress("glGetMultiTexParameterIivEXT");
-        glGetMultiTexParameterIuivEXT = provider.getFunctionAddress("glGetMultiTexParameterIuivEXT");
-        glProgramUniform1uiEXT = provider.getFunctionAddress("glProgramUniform1uiEXT");
-        glProgramUniform2uiEXT = provider.getFunctionAddress("glProgramUniform2uiEXT");
-        glProgramUniform3uiEXT = provider.getFunctionAddress("glProgramUniform3uiEXT");
-        glProgramUniform4uiEXT = provider.getFunctionAddress("glProgramUniform4uiEXT");
-        glProgramUniform1uivEXT = provider.getFunctionAddress("glProgramUniform1uivEXT");
-        glProgramUniform2uivEXT = provider.getFunctionAddress("glProgramUniform2uivEXT");
-        glProgramUniform3uivEXT = provider.getFunctionAddress("glProgramUniform3uivEXT");
-        glProgramUniform4uivEXT = provider.getFunctionAddress("glProgramUniform4uivEXT");
-        glNamedProgramLocalParameters4fvEXT = provider.getFunctionAddress("glNamedProgramLocalParameters4fvEXT");
-        glNamedProgramLocalParameterI4iEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4iEXT");
-        glNamedProgramLocalParameterI4ivEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4ivEXT");
-        glNamedProgramLocalParametersI4ivEXT = provider.getFunctionAddress("glNamedProgramLocalParametersI4ivEXT");
-        glNamedProgramLocalParameterI4uiEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4uiEXT");
-        glNamedProgramLocalParameterI4uivEXT = provider.getFunctionAddress("glNamedProgramLocalParameterI4uivEXT");
-        glNamedProgramLocalParametersI4uivEXT = provider.getFunctionAddress("glNamedProgramLocalParametersI4uivEXT");
-        glGetNamedProgramLocalParameterIivEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterIivEXT");
-        glGetNamedProgramLocalParameterIuivEXT = provider.getFunctionAddress("glGetNamedProgramLocalParameterIuivEXT");
-        glNamedRenderbufferStorageEXT = provider.getFunctionAddress("glNamedRenderbufferStorageEXT");
-        glGetNamedRenderbufferParameterivEXT = provider.getFunctionAddress("glGetNamedRenderbufferParameterivEXT");
-        glNamedRenderbufferStorageMultisampleEXT = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleEXT");
-        glNamedRenderbufferStorageMultisampleCoverageEXT = provider.getFunctionAddress("glNamedRenderbufferStorageMultisampleCoverageEXT");
-        glCheckNamedFramebufferStatusEXT = provider.getFunctionAddress("glCheckNamedFramebufferStatusEXT");
-        glNamedFramebufferTexture1DEXT = provider.getFunctionAddress("glNamedFramebufferTexture1DEXT");
-        glNamedFramebufferTexture2DEXT = provider.getFunctionAddress("glNamedFramebufferTexture2DEXT");
-        glNamedFramebufferTexture3DEXT = provider.getFunctionAddress("glNamedFramebufferTexture3DEXT");
-        glNamedFramebufferRenderbufferEXT = provider.getFunctionAddress("glNamedFramebufferRenderbufferEXT");
-        glGetNamedFramebufferAttachmentParameterivEXT = provider.getFunctionAddress("glGetNamedFramebufferAttachmentParameterivEXT");
-        glGenerateTextureMipmapEXT = provider.getFunctionAddress("glGenerateTextureMipmapEXT");
-        glGenerateMultiTexMipmapEXT = provider.getFunctionAddress("glGenerateMultiTexMipmapEXT");
-        glFramebufferDrawBufferEXT = provider.getFunctionAddress("glFramebufferDrawBufferEXT");
-        glFramebufferDrawBuffersEXT = provider.getFunctionAddress("glFramebufferDrawBuffersEXT");
-        glFramebufferReadBufferEXT = provider.getFunctionAddress("glFramebufferReadBufferEXT");
-        glGetFramebufferParameterivEXT = provider.getFunctionAddress("glGetFramebufferParameterivEXT");
-        glNamedCopyBufferSubDataEXT = provider.getFunctionAddress("glNamedCopyBufferSubDataEXT");
-        glNamedFramebufferTextureEXT = provider.getFunctionAddress("glNamedFramebufferTextureEXT");
-        glNamedFramebufferTextureLayerEXT = provider.getFunctionAddress("glNamedFramebufferTextureLayerEXT");
-        glNamedFramebufferTextureFaceEXT = provider.getFunctionAddress("glNamedFramebufferTextureFaceEXT");
-        glTextureRenderbufferEXT = provider.getFunctionAddress("glTextureRenderbufferEXT");
-        glMultiTexRenderbufferEXT = provider.getFunctionAddress("glMultiTexRenderbufferEXT");
-        glVertexArrayVertexOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexOffsetEXT");
-        glVertexArrayColorOffsetEXT = provider.getFunctionAddress("glVertexArrayColorOffsetEXT");
-        glVertexArrayEdgeFlagOffsetEXT = provider.getFunctionAddress("glVertexArrayEdgeFlagOffsetEXT");
-        glVertexArrayIndexOffsetEXT = provider.getFunctionAddress("glVertexArrayIndexOffsetEXT");
-        glVertexArrayNormalOffsetEXT = provider.getFunctionAddress("glVertexArrayNormalOffsetEXT");
-        glVertexArrayTexCoordOffsetEXT = provider.getFunctionAddress("glVertexArrayTexCoordOffsetEXT");
-        glVertexArrayMultiTexCoordOffsetEXT = provider.getFunctionAddress("glVertexArrayMultiTexCoordOffsetEXT");
-        glVertexArrayFogCoordOffsetEXT = provider.getFunctionAddress("glVertexArrayFogCoordOffsetEXT");
-        glVertexArraySecondaryColorOffsetEXT = provider.getFunctionAddress("glVertexArraySecondaryColorOffsetEXT");
-        glVertexArrayVertexAttribOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexAttribOffsetEXT");
-        glVertexArrayVertexAttribIOffsetEXT = provider.getFunctionAddress("glVertexArrayVertexAttribIOffsetEXT");
-        glEnableVertexArrayEXT = provider.getFunctionAddress("glEnableVertexArrayEXT");
-        glDisableVertexArrayEXT = provider.getFunctionAddress("glDisableVertexArrayEXT");
-        glEnableVertexArrayAttribEXT = provider.getFunctionAddress("glEnableVertexArrayAttribEXT");
-        glDisableVertexArrayAttribEXT = provider.getFunctionAddress("glDisableVertexArrayAttribEXT");
-        glGetVertexArrayIntegervEXT = provider.getFunctionAddress("glGetVertexArrayIntegervEXT");
-        glGetVertexArrayPointervEXT = provider.getFunctionAddress("glGetVertexArrayPointervEXT");
-        glGetVertexArrayIntegeri_vEXT = provider.getFunctionAddress("glGetVertexArrayIntegeri_vEXT");
-        glGetVertexArrayPointeri_vEXT = provider.getFunctionAddress("glGetVertexArrayPointeri_vEXT");
-        glMapNamedBufferRangeEXT = provider.getFunctionAddress("glMapNamedBufferRangeEXT");
-        glFlushMappedNamedBufferRangeEXT = provider.getFunctionAddress("glFlushMappedNamedBufferRangeEXT");
-        glColorMaskIndexedEXT = provider.getFunctionAddress("glColorMaskIndexedEXT");
-        glGetBooleanIndexedvEXT = provider.getFunctionAddress("glGetBooleanIndexedvEXT");
-        glGetIntegerIndexedvEXT = provider.getFunctionAddress("glGetIntegerIndexedvEXT");
-        glEnableIndexedEXT = provider.getFunctionAddress("glEnableIndexedEXT");
-        glDisableIndexedEXT = provider.getFunctionAddress("glDisableIndexedEXT");
-        glIsEnabledIndexedEXT = provider.getFunctionAddress("glIsEnabledIndexedEXT");
-        glDrawArraysInstancedEXT = provider.getFunctionAddress("glDrawArraysInstancedEXT");
-        glDrawElementsInstancedEXT = provider.getFunctionAddress("glDrawElementsInstancedEXT");
-        glEGLImageTargetTexStorageEXT = provider.getFunctionAddress("glEGLImageTargetTexStorageEXT");
-        glEGLImageTargetTextureStorageEXT = provider.getFunctionAddress("glEGLImageTargetTextureStorageEXT");
-        glBufferStorageExternalEXT = provider.getFunctionAddress("glBufferStorageExternalEXT");
-        glNamedBufferStorageExternalEXT = provider.getFunctionAddress("glNamedBufferStorageExternalEXT");
-        glBlitFramebufferEXT = provider.getFunctionAddress("glBlitFramebufferEXT");
-        glRenderbufferStorageMultisampleEXT = provider.getFunctionAddress("glRenderbufferStorageMultisampleEXT");
-        glIsRenderbufferEXT = provider.getFunctionAddress("glIsRenderbufferEXT");
-        glBindRenderbufferEXT = provider.getFunctionAddress("glBindRenderbufferEXT");
-        glDeleteRenderbuffersEXT = provider.getFunctionAddress("glDeleteRenderbuffersEXT");
-        glGenRenderbuffersEXT = provider.getFunctionAddress("glGenRenderbuffersEXT");
-        glRenderbufferStorageEXT = provider.getFunctionAddress("glRenderbufferStorageEXT");
-        glGetRenderbufferParameterivEXT = provider.getFunctionAddress("glGetRenderbufferParameterivEXT");
-        glIsFramebufferEXT = provider.getFunctionAddress("glIsFramebufferEXT");
-        glBindFramebufferEXT = provider.getFunctionAddress("glBindFramebufferEXT");
-        glDeleteFramebuffersEXT = provider.getFunctionAddress("glDeleteFramebuffersEXT");
-        glGenFramebuffersEXT = provider.getFunctionAddress("glGenFramebuffersEXT");
-        glCheckFramebufferStatusEXT = provider.getFunctionAddress("glCheckFramebufferStatusEXT");
-        glFramebufferTexture1DEXT = provider.getFunctionAddress("glFramebufferTexture1DEXT");
-        glFramebufferTexture2DEXT = provider.getFunctionAddress("glFramebufferTexture2DEXT");
-        glFramebufferTexture3DEXT = provider.getFunctionAddress("glFramebufferTexture3DEXT");
-        glFramebufferRenderbufferEXT = provider.getFunctionAddress("glFramebufferRenderbufferEXT");
-        glGetFramebufferAttachmentParameterivEXT = provider.getFunctionAddress("glGetFramebufferAttachmentParameterivEXT");
-        glGenerateMipmapEXT = provider.getFunctionAddress("glGenerateMipmapEXT");
-        glProgramParameteriEXT = provider.getFunctionAddress("glProgramParameteriEXT");
-        glFramebufferTextureEXT = provider.getFunctionAddress("glFramebufferTextureEXT");
-        glFramebufferTextureFaceEXT = provider.getFunctionAddress("glFramebufferTextureFaceEXT");
-        glProgramEnvParameters4fvEXT = provider.getFunctionAddress("glProgramEnvParameters4fvEXT");
-        glProgramLocalParameters4fvEXT = provider.getFunctionAddress("glProgramLocalParameters4fvEXT");
-        glVertexAttribI1iEXT = provider.getFunctionAddress("glVertexAttribI1iEXT");
-        glVertexAttribI2iEXT = provider.getFunctionAddress("glVertexAttribI2iEXT");
-        glVertexAttribI3iEXT = provider.getFunctionAddress("glVertexAttribI3iEXT");
-        glVertexAttribI4iEXT = provider.getFunctionAddress("glVertexAttribI4iEXT");
-        glVertexAttribI1uiEXT = provider.getFunctionAddress("glVertexAttribI1uiEXT");
-        glVertexAttribI2uiEXT = provider.getFunctionAddress("glVertexAttribI2uiEXT");
-        glVertexAttribI3uiEXT = provider.getFunctionAddress("glVertexAttribI3uiEXT");
-        glVertexAttribI4uiEXT = provider.getFunctionAddress("glVertexAttribI4uiEXT");
-        glVertexAttribI1ivEXT = provider.getFunctionAddress("glVertexAttribI1ivEXT");
-        glVertexAttribI2ivEXT = provider.getFunctionAddress("glVertexAttribI2ivEXT");
-        glVertexAttribI3ivEXT = provider.getFunctionAddress("glVertexAttribI3ivEXT");
-        glVertexAttribI4ivEXT = provider.getFunctionAddress("glVertexAttribI4ivEXT");
-        glVertexAttribI1uivEXT = provider.getFunctionAddress("glVertexAttribI1uivEXT");
-        glVertexAttribI2uivEXT = provider.getFunctionAddress("glVertexAttribI2uivEXT");
-        glVertexAttribI3uivEXT = provider.getFunctionAddress("glVertexAttribI3uivEXT");
-        glVertexAttribI4uivEXT = provider.getFunctionAddress("glVertexAttribI4uivEXT");
-        glVertexAttribI4bvEXT = provider.getFunctionAddress("glVertexAttribI4bvEXT");
-        glVertexAttribI4svEXT = provider.getFunctionAddress("glVertexAttribI4svEXT");
-        glVertexAttribI4ubvEXT = provider.getFunctionAddress("glVertexAttribI4ubvEXT");
-        glVertexAttribI4usvEXT = provider.getFunctionAddress("glVertexAttribI4usvEXT");
-        glVertexAttribIPointerEXT = provider.getFunctionAddress("glVertexAttribIPointerEXT");
-        glGetVertexAttribIivEXT = provider.getFunctionAddress("glGetVertexAttribIivEXT");
-        glGetVertexAttribIuivEXT = provider.getFunctionAddress("glGetVertexAttribIuivEXT");
-        glGetUniformuivEXT = provider.getFunctionAddress("glGetUniformuivEXT");
-        glBindFragDataLocationEXT = provider.getFunctionAddress("glBindFragDataLocationEXT");
-        glGetFragDataLocationEXT = provider.getFunctionAddress("glGetFragDataLocationEXT");
-        glUniform1uiEXT = provider.getFunctionAddress("glUniform1uiEXT");
-        glUniform2uiEXT = provider.getFunctionAddress("glUniform2uiEXT");
-        glUniform3uiEXT = provider.getFunctionAddress("glUniform3uiEXT");
-        glUniform4uiEXT = provider.getFunctionAddress("glUniform4uiEXT");
-        glUniform1uivEXT = provider.getFunctionAddress("glUniform1uivEXT");
-        glUniform2uivEXT = provider.getFunctionAddress("glUniform2uivEXT");
-        glUniform3uivEXT = provider.getFunctionAddress("glUniform3uivEXT");
-        glUniform4uivEXT = provider.getFunctionAddress("glUniform4uivEXT");
-        glGetUnsignedBytevEXT = provider.getFunctionAddress("glGetUnsignedBytevEXT");
-        glGetUnsignedBytei_vEXT = provider.getFunctionAddress("glGetUnsignedBytei_vEXT");
-        glDeleteMemoryObjectsEXT = provider.getFunctionAddress("glDeleteMemoryObjectsEXT");
-        glIsMemoryObjectEXT = provider.getFunctionAddress("glIsMemoryObjectEXT");
-        glCreateMemoryObjectsEXT = provider.getFunctionAddress("glCreateMemoryObjectsEXT");
-        glMemoryObjectParameterivEXT = provider.getFunctionAddress("glMemoryObjectParameterivEXT");
-        glGetMemoryObjectParameterivEXT = provider.getFunctionAddress("glGetMemoryObjectParameterivEXT");
-        glTexStorageMem2DEXT = provider.getFunctionAddress("glTexStorageMem2DEXT");
-        glTexStorageMem2DMultisampleEXT = provider.getFunctionAddress("glTexStorageMem2DMultisampleEXT");
-        glTexStorageMem3DEXT = provider.getFunctionAddress("glTexStorageMem3DEXT");
-        glTexStorageMem3DMultisampleEXT = provider.getFunctionAddress("glTexStorageMem3DMultisampleEXT");
-        glBufferStorageMemEXT = provider.getFunctionAddress("glBufferStorageMemEXT");
-        glTextureStorageMem2DEXT = provider.getFunctionAddress("glTextureStorageMem2DEXT");
-        glTextureStorageMem2DMultisampleEXT = provider.getFunctionAddress("glTextureStorageMem2DMultisampleEXT");
-        glTextureStorageMem3DEXT = provider.getFunctionAddress("glTextureStorageMem3DEXT");
-        glTextureStorageMem3DMultisampleEXT = provider.getFunctionAddress("glTextureStorageMem3DMultisampleEXT");
-        glNamedBufferStorageMemEXT = provider.getFunctionAddress("glNamedBufferStorageMemEXT");
-        glTexStorageMem1DEXT = provider.getFunctionAddress("glTexStorageMem1DEXT");
-        glTextureStorageMem1DEXT = provider.getFunctionAddress("glTextureStorageMem1DEXT");
-        glImportMemoryFdEXT = provider.getFunctionAddress("glImportMemoryFdEXT");
-        glImportMemoryWin32HandleEXT = provider.getFunctionAddress("glImportMemoryWin32HandleEXT");
-        glImportMemoryWin32NameEXT = provider.getFunctionAddress("glImportMemoryWin32NameEXT");
-        glPointParameterfEXT = provider.getFunctionAddress("glPointParameterfEXT");
-        glPointParameterfvEXT = provider.getFunctionAddress("glPointParameterfvEXT");
-        glPolygonOffsetClampEXT = provider.getFunctionAddress("glPolygonOffsetClampEXT");
-        glProvokingVertexEXT = provider.getFunctionAddress("glProvokingVertexEXT");
-        glRasterSamplesEXT = provider.getFunctionAddress("glRasterSamplesEXT");
-        glSecondaryColor3bEXT = provider.getFunctionAddress("glSecondaryColor3bEXT");
-        glSecondaryColor3sEXT = provider.getFunctionAddress("glSecondaryColor3sEXT");
-        glSecondaryColor3iEXT = provider.getFunctionAddress("glSecondaryColor3iEXT");
-        glSecondaryColor3fEXT = provider.getFunctionAddress("glSecondaryColor3fEXT");
-        glSecondaryColor3dEXT = provider.getFunctionAddress("glSecondaryColor3dEXT");
-        glSecondaryColor3ubEXT = provider.getFunctionAddress("glSecondaryColor3ubEXT");
-        glSecondaryColor3usEXT = provider.getFunctionAddress("glSecondaryColor3usEXT");
-        glSecondaryColor3uiEXT = provider.getFunctionAddress("glSecondaryColor3uiEXT");
-        glSecondaryColor3bvEXT = provider.getFunctionAddress("glSecondaryColor3bvEXT");
-        glSecondaryColor3svEXT = provider.getFunctionAddress("glSecondaryColor3svEXT");
-        glSecondaryColor3ivEXT = provider.getFunctionAddress("glSecondaryColor3ivEXT");
-        glSecondaryColor3fvEXT = provider.getFunctionAddress("glSecondaryColor3fvEXT");
-        glSecondaryColor3dvEXT = provider.getFunctionAddress("glSecondaryColor3dvEXT");
-        glSecondaryColor3ubvEXT = provider.getFunctionAddress("glSecondaryColor3ubvEXT");
-        glSecondaryColor3usvEXT = provider.getFunctionAddress("glSecondaryColor3usvEXT");
-        glSecondaryColor3uivEXT = provider.getFunctionAddress("glSecondaryColor3uivEXT");
-        glSecondaryColorPointerEXT = provider.getFunctionAddress("glSecondaryColorPointerEXT");
-        glGenSemaphoresEXT = provider.getFunctionAddress("glGenSemaphoresEXT");
-        glDeleteSemaphoresEXT = provider.getFunctionAddress("glDeleteSemaphoresEXT");
-        glIsSemaphoreEXT = provider.getFunctionAddress("glIsSemaphoreEXT");
-        glSemaphoreParameterui64vEXT = provider.getFunctionAddress("glSemaphoreParameterui64vEXT");
-        glGetSemaphoreParameterui64vEXT = provider.getFunctionAddress("glGetSemaphoreParameterui64vEXT");
-        glWaitSemaphoreEXT = provider.getFunctionAddress("glWaitSemaphoreEXT");
-        glSignalSemaphoreEXT = provider.getFunctionAddress("glSignalSemaphoreEXT");
-        glImportSemaphoreFdEXT = provider.getFunctionAddress("glImportSemaphoreFdEXT");
-        glImportSemaphoreWin32HandleEXT = provider.getFunctionAddress("glImportSemaphoreWin32HandleEXT");
-        glImportSemaphoreWin32NameEXT = provider.getFunctionAddress("glImportSemaphoreWin32NameEXT");
-        glUseShaderProgramEXT = provider.getFunctionAddress("glUseShaderProgramEXT");
-        glActiveProgramEXT = provider.getFunctionAddress("glActiveProgramEXT");
-        glCreateShaderProgramEXT = provider.getFunctionAddress("glCreateShaderProgramEXT");
-        glFramebufferFetchBarrierEXT = provider.getFunctionAddress("glFramebufferFetchBarrierEXT");
-        glBindImageTextureEXT = provider.getFunctionAddress("glBindImageTextureEXT");
-        glMemoryBarrierEXT = provider.getFunctionAddress("glMemoryBarrierEXT");
-        glStencilClearTagEXT = provider.getFunctionAddress("glStencilClearTagEXT");
-        glActiveStencilFaceEXT = provider.getFunctionAddress("glActiveStencilFaceEXT");
-        glFramebufferTextureLayerEXT = provider.getFunctionAddress("glFramebufferTextureLayerEXT");
-        glTexBufferEXT = provider.getFunctionAddress("glTexBufferEXT");
-        glClearColorIiEXT = provider.getFunctionAddress("glClearColorIiEXT");
-        glClearColorIuiEXT = provider.getFunctionAddress("glClearColorIuiEXT");
-        glTexParameterIivEXT = provider.getFunctionAddress("glTexParameterIivEXT");
-        glTexParameterIuivEXT = provider.getFunctionAddress("glTexParameterIuivEXT");
-        glGetTexParameterIivEXT = provider.getFunctionAddress("glGetTexParameterIivEXT");
-        glGetTexParameterIuivEXT = provider.getFunctionAddress("glGetTexParameterIuivEXT");
-        glGetQueryObjecti64vEXT = provider.getFunctionAddress("glGetQueryObjecti64vEXT");
-        glGetQueryObjectui64vEXT = provider.getFunctionAddress("glGetQueryObjectui64vEXT");
-        glBindBufferRangeEXT = provider.getFunctionAddress("glBindBufferRangeEXT");
-        glBindBufferOffsetEXT = provider.getFunctionAddress("glBindBufferOffsetEXT");
-        glBindBufferBaseEXT = provider.getFunctionAddress("glBindBufferBaseEXT");
-        glBeginTransformFeedbackEXT = provider.getFunctionAddress("glBeginTransformFeedbackEXT");
-        glEndTransformFeedbackEXT = provider.getFunctionAddress("glEndTransformFeedbackEXT");
-        glTransformFeedbackVaryingsEXT = provider.getFunctionAddress("glTransformFeedbackVaryingsEXT");
-        glGetTransformFeedbackVaryingEXT = provider.getFunctionAddress("glGetTransformFeedbackVaryingEXT");
-        glVertexAttribL1dEXT = provider.getFunctionAddress("glVertexAttribL1dEXT");
-        glVertexAttribL2dEXT = provider.getFunctionAddress("glVertexAttribL2dEXT");
-        glVertexAttribL3dEXT = provider.getFunctionAddress("glVertexAttribL3dEXT");
-        glVertexAttribL4dEXT = provider.getFunctionAddress("glVertexAttribL4dEXT");
-        glVertexAttribL1dvEXT = provider.getFunctionAddress("glVertexAttribL1dvEXT");
-        glVertexAttribL2dvEXT = provider.getFunctionAddress("glVertexAttribL2dvEXT");
-        glVertexAttribL3dvEXT = provider.getFunctionAddress("glVertexAttribL3dvEXT");
-        glVertexAttribL4dvEXT = provider.getFunctionAddress("glVertexAttribL4dvEXT");
-        glVertexAttribLPointerEXT = provider.getFunctionAddress("glVertexAttribLPointerEXT");
-        glGetVertexAttribLdvEXT = provider.getFunctionAddress("glGetVertexAttribLdvEXT");
-        glAcquireKeyedMutexWin32EXT = provider.getFunctionAddress("glAcquireKeyedMutexWin32EXT");
-        glReleaseKeyedMutexWin32EXT = provider.getFunctionAddress("glReleaseKeyedMutexWin32EXT");
-        glWindowRectanglesEXT = provider.getFunctionAddress("glWindowRectanglesEXT");
-        glImportSyncEXT = provider.getFunctionAddress("glImportSyncEXT");
-        glFrameTerminatorGREMEDY = provider.getFunctionAddress("glFrameTerminatorGREMEDY");
-        glStringMarkerGREMEDY = provider.getFunctionAddress("glStringMarkerGREMEDY");
-        glApplyFramebufferAttachmentCMAAINTEL = provider.getFunctionAddress("glApplyFramebufferAttachmentCMAAINTEL");
-        glSyncTextureINTEL = provider.getFunctionAddress("glSyncTextureINTEL");
-        glUnmapTexture2DINTEL = provider.getFunctionAddress("glUnmapTexture2DINTEL");
-        glMapTexture2DINTEL = provider.getFunctionAddress("glMapTexture2DINTEL");
-        glBeginPerfQueryINTEL = provider.getFunctionAddress("glBeginPerfQueryINTEL");
-        glCreatePerfQueryINTEL = provider.getFunctionAddress("glCreatePerfQueryINTEL");
-        glDeletePerfQueryINTEL = provider.getFunctionAddress("glDeletePerfQueryINTEL");
-        glEndPerfQueryINTEL = provider.getFunctionAddress("glEndPerfQueryINTEL");
-        glGetFirstPerfQueryIdINTEL = provider.getFunctionAddress("glGetFirstPerfQueryIdINTEL");
-        glGetNextPerfQueryIdINTEL = provider.getFunctionAddress("glGetNextPerfQueryIdINTEL");
-        glGetPerfCounterInfoINTEL = provider.getFunctionAddress("glGetPerfCounterInfoINTEL");
-        glGetPerfQueryDataINTEL = provider.getFunctionAddress("glGetPerfQueryDataINTEL");
-        glGetPerfQueryIdByNameINTEL = provider.getFunctionAddress("glGetPerfQueryIdByNameINTEL");
-        glGetPerfQueryInfoINTEL = provider.getFunctionAddress("glGetPerfQueryInfoINTEL");
-        glBlendBarrierKHR = provider.getFunctionAddress("glBlendBarrierKHR");
-        glMaxShaderCompilerThreadsKHR = provider.getFunctionAddress("glMaxShaderCompilerThreadsKHR");
-        glAlphaToCoverageDitherControlNV = provider.getFunctionAddress("glAlphaToCoverageDitherControlNV");
-        glMultiDrawArraysIndirectBindlessNV = provider.getFunctionAddress("glMultiDrawArraysIndirectBindlessNV");
-        glMultiDrawElementsIndirectBindlessNV = provider.getFunctionAddress("glMultiDrawElementsIndirectBindlessNV");
-        glMultiDrawArraysIndirectBindlessCountNV = provider.getFunctionAddress("glMultiDrawArraysIndirectBindlessCountNV");
-        glMultiDrawElementsIndirectBindlessCountNV = provider.getFunctionAddress("glMultiDrawElementsIndirectBindlessCountNV");
-        glGetTextureHandleNV = provider.getFunctionAddress("glGetTextureHandleNV");
-        glGetTextureSamplerHandleNV = provider.getFunctionAddress("glGetTextureSamplerHandleNV");
-        glMakeTextureHandleResidentNV = provider.getFunctionAddress("glMakeTextureHandleResidentNV");
-        glMakeTextureHandleNonResidentNV = provider.getFunctionAddress("glMakeTextureHandleNonResidentNV");
-        glGetImageHandleNV = provider.getFunctionAddress("glGetImageHandleNV");
-        glMakeImageHandleResidentNV = provider.getFunctionAddress("glMakeImageHandleResidentNV");
-        glMakeImageHandleNonResidentNV = provider.getFunctionAddress("glMakeImageHandleNonResidentNV");
-        glUniformHandleui64NV = provider.getFunctionAddress("glUniformHandleui64NV");
-        glUniformHandleui64vNV = provider.getFunctionAddress("glUniformHandleui64vNV");
-        glProgramUniformHandleui64NV = provider.getFunctionAddress("glProgramUniformHandleui64NV");
-        glProgramUniformHandleui64vNV = provider.getFunctionAddress("glProgramUniformHandleui64vNV");
-        glIsTextureHandleResidentNV = provider.getFunctionAddress("glIsTextureHandleResidentNV");
-        glIsImageHandleResidentNV = provider.getFunctionAddress("glIsImageHandleResidentNV");
-        glBlendParameteriNV = provider.getFunctionAddress("glBlendParameteriNV");
-        glBlendBarrierNV = provider.getFunctionAddress("glBlendBarrierNV");
-        glViewportPositionWScaleNV = provider.getFunctionAddress("glViewportPositionWScaleNV");
-        glCreateStatesNV = provider.getFunctionAddress("glCreateStatesNV");
-        glDeleteStatesNV = provider.getFunctionAddress("glDeleteStatesNV");
-        glIsStateNV = provider.getFunctionAddress("glIsStateNV");
-        glStateCaptureNV = provider.getFunctionAddress("glStateCaptureNV");
-        glGetCommandHeaderNV = provider.getFunctionAddress("glGetCommandHeaderNV");
-        glGetStageIndexNV = provider.getFunctionAddress("glGetStageIndexNV");
-        glDrawCommandsNV = provider.getFunctionAddress("glDrawCommandsNV");
-        glDrawCommandsAddressNV = provider.getFunctionAddress("glDrawCommandsAddressNV");
-        glDrawCommandsStatesNV = provider.getFunctionAddress("glDrawCommandsStatesNV");
-        glDrawCommandsStatesAddressNV = provider.getFunctionAddress("glDrawCommandsStatesAddressNV");
-        glCreateCommandListsNV = provider.getFunctionAddress("glCreateCommandListsNV");
-        glDeleteCommandListsNV = provider.getFunctionAddress("glDeleteCommandListsNV");
-        glIsCommandListNV = provider.getFunctionAddress("glIsCommandListNV");
-        glListDrawCommandsStatesClientNV = provider.getFunctionAddress("glListDrawCommandsStatesClientNV");
-        glCommandListSegmentsNV = provider.getFunctionAddress("glCommandListSegmentsNV");
-        glCompileCommandListNV = provider.getFunctionAddress("glCompileCommandListNV");
-        glCallCommandListNV = provider.getFunctionAddress("glCallCommandListNV");
-        glBeginConditionalRenderNV = provider.getFunctionAddress("glBeginConditionalRenderNV");
-        glEndConditionalRenderNV = provider.getFunctionAddress("glEndConditionalRenderNV");
-        glSubpixelPrecisionBiasNV = provider.getFunctionAddress("glSubpixelPrecisionBiasNV");
-        glConservativeRasterParameterfNV = provider.getFunctionAddress("glConservativeRasterParameterfNV");
-        glConservativeRasterParameteriNV = provider.getFunctionAddress("glConservativeRasterParameteriNV");
-        glCopyImageSubDataNV = provider.getFunctionAddress("glCopyImageSubDataNV");
-        glDepthRangedNV = provider.getFunctionAddress("glDepthRangedNV");
-        glClearDepthdNV = provider.getFunctionAddress("glClearDepthdNV");
-        glDepthBoundsdNV = provider.getFunctionAddress("glDepthBoundsdNV");
-        glDrawTextureNV = provider.getFunctionAddress("glDrawTextureNV");
-        glDrawVkImageNV = provider.getFunctionAddress("glDrawVkImageNV");
-        glGetVkProcAddrNV = provider.getFunctionAddress("glGetVkProcAddrNV");
-        glWaitVkSemaphoreNV = provider.getFunctionAddress("glWaitVkSemaphoreNV");
-        glSignalVkSemaphoreNV = provider.getFunctionAddress("glSignalVkSemaphoreNV");
-        glSignalVkFenceNV = provider.getFunctionAddress("glSignalVkFenceNV");
-        glGetMultisamplefvNV = provider.getFunctionAddress("glGetMultisamplefvNV");
-        glSampleMaskIndexedNV = provider.getFunctionAddress("glSampleMaskIndexedNV");
-        glTexRenderbufferNV = provider.getFunctionAddress("glTexRenderbufferNV");
-        glDeleteFencesNV = provider.getFunctionAddress("glDeleteFencesNV");
-        glGenFencesNV = provider.getFunctionAddress("glGenFencesNV");
-        glIsFenceNV = provider.getFunctionAddress("glIsFenceNV");
-        glTestFenceNV = provider.getFunctionAddress("glTestFenceNV");
-        glGetFenceivNV = provider.getFunctionAddress("glGetFenceivNV");
-        glFinishFenceNV = provider.getFunctionAddress("glFinishFenceNV");
-        glSetFenceNV = provider.getFunctionAddress("glSetFenceNV");
-        glFragmentCoverageColorNV = provider.getFunctionAddress("glFragmentCoverageColorNV");
-        glCoverageModulationTableNV = provider.getFunctionAddress("glCoverageModulationTableNV");
-        glGetCoverageModulationTableNV = provider.getFunctionAddress("glGetCoverageModulationTableNV");
-        glCoverageModulationNV = provider.getFunctionAddress("glCoverageModulationNV");
-        glRenderbufferStorageMultisampleCoverageNV = provider.getFunctionAddress("glRenderbufferStorageMultisampleCoverageNV");
-        glRenderGpuMaskNV = provider.getFunctionAddress("glRenderGpuMaskNV");
-        glMulticastBufferSubDataNV = provider.getFunctionAddress("glMulticastBufferSubDataNV");
-        glMulticastCopyBufferSubDataNV = provider.getFunctionAddress("glMulticastCopyBufferSubDataNV");
-        glMulticastCopyImageSubDataNV = provider.getFunctionAddress("glMulticastCopyImageSubDataNV");
-        glMulticastBlitFramebufferNV = provider.getFunctionAddress("glMulticastBlitFramebufferNV");
-        glMulticastFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glMulticastFramebufferSampleLocationsfvNV");
-        glMulticastBarrierNV = provider.getFunctionAddress("glMulticastBarrierNV");
-        glMulticastWaitSyncNV = provider.getFunctionAddress("glMulticastWaitSyncNV");
-        glMulticastGetQueryObjectivNV = provider.getFunctionAddress("glMulticastGetQueryObjectivNV");
-        glMulticastGetQueryObjectuivNV = provider.getFunctionAddress("glMulticastGetQueryObjectuivNV");
-        glMulticastGetQueryObjecti64vNV = provider.getFunctionAddress("glMulticastGetQueryObjecti64vNV");
-        glMulticastGetQueryObjectui64vNV = provider.getFunctionAddress("glMulticastGetQueryObjectui64vNV");
-        glUniform1i64NV = provider.getFunctionAddress("glUniform1i64NV");
-        glUniform2i64NV = provider.getFunctionAddress("glUniform2i64NV");
-        glUniform3i64NV = provider.getFunctionAddress("glUniform3i64NV");
-        glUniform4i64NV = provider.getFunctionAddress("glUniform4i64NV");
-        glUniform1i64vNV = provider.getFunctionAddress("glUniform1i64vNV");
-        glUniform2i64vNV = provider.getFunctionAddress("glUniform2i64vNV");
-        glUniform3i64vNV = provider.getFunctionAddress("glUniform3i64vNV");
-        glUniform4i64vNV = provider.getFunctionAddress("glUniform4i64vNV");
-        glUniform1ui64NV = provider.getFunctionAddress("glUniform1ui64NV");
-        glUniform2ui64NV = provider.getFunctionAddress("glUniform2ui64NV");
-        glUniform3ui64NV = provider.getFunctionAddress("glUniform3ui64NV");
-        glUniform4ui64NV = provider.getFunctionAddress("glUniform4ui64NV");
-        glUniform1ui64vNV = provider.getFunctionAddress("glUniform1ui64vNV");
-        glUniform2ui64vNV = provider.getFunctionAddress("glUniform2ui64vNV");
-        glUniform3ui64vNV = provider.getFunctionAddress("glUniform3ui64vNV");
-        glUniform4ui64vNV = provider.getFunctionAddress("glUniform4ui64vNV");
-        glGetUniformi64vNV = provider.getFunctionAddress("glGetUniformi64vNV");
-        glProgramUniform1i64NV = provider.getFunctionAddress("glProgramUniform1i64NV");
-        glProgramUniform2i64NV = provider.getFunctionAddress("glProgramUniform2i64NV");
-        glProgramUniform3i64NV = provider.getFunctionAddress("glProgramUniform3i64NV");
-        glProgramUniform4i64NV = provider.getFunctionAddress("glProgramUniform4i64NV");
-        glProgramUniform1i64vNV = provider.getFunctionAddress("glProgramUniform1i64vNV");
-        glProgramUniform2i64vNV = provider.getFunctionAddress("glProgramUniform2i64vNV");
-        glProgramUniform3i64vNV = provider.getFunctionAddress("glProgramUniform3i64vNV");
-        glProgramUniform4i64vNV = provider.getFunctionAddress("glProgramUniform4i64vNV");
-        glProgramUniform1ui64NV = provider.getFunctionAddress("glProgramUniform1ui64NV");
-        glProgramUniform2ui64NV = provider.getFunctionAddress("glProgramUniform2ui64NV");
-        glProgramUniform3ui64NV = provider.getFunctionAddress("glProgramUniform3ui64NV");
-        glProgramUniform4ui64NV = provider.getFunctionAddress("glProgramUniform4ui64NV");
-        glProgramUniform1ui64vNV = provider.getFunctionAddress("glProgramUniform1ui64vNV");
-        glProgramUniform2ui64vNV = provider.getFunctionAddress("glProgramUniform2ui64vNV");
-        glProgramUniform3ui64vNV = provider.getFunctionAddress("glProgramUniform3ui64vNV");
-        glProgramUniform4ui64vNV = provider.getFunctionAddress("glProgramUniform4ui64vNV");
-        glVertex2hNV = provider.getFunctionAddress("glVertex2hNV");
-        glVertex2hvNV = provider.getFunctionAddress("glVertex2hvNV");
-        glVertex3hNV = provider.getFunctionAddress("glVertex3hNV");
-        glVertex3hvNV = provider.getFunctionAddress("glVertex3hvNV");
-        glVertex4hNV = provider.getFunctionAddress("glVertex4hNV");
-        glVertex4hvNV = provider.getFunctionAddress("glVertex4hvNV");
-        glNormal3hNV = provider.getFunctionAddress("glNormal3hNV");
-        glNormal3hvNV = provider.getFunctionAddress("glNormal3hvNV");
-        glColor3hNV = provider.getFunctionAddress("glColor3hNV");
-        glColor3hvNV = provider.getFunctionAddress("glColor3hvNV");
-        glColor4hNV = provider.getFunctionAddress("glColor4hNV");
-        glColor4hvNV = provider.getFunctionAddress("glColor4hvNV");
-        glTexCoord1hNV = provider.getFunctionAddress("glTexCoord1hNV");
-        glTexCoord1hvNV = provider.getFunctionAddress("glTexCoord1hvNV");
-        glTexCoord2hNV = provider.getFunctionAddress("glTexCoord2hNV");
-        glTexCoord2hvNV = provider.getFunctionAddress("glTexCoord2hvNV");
-        glTexCoord3hNV = provider.getFunctionAddress("glTexCoord3hNV");
-        glTexCoord3hvNV = provider.getFunctionAddress("glTexCoord3hvNV");
-        glTexCoord4hNV = provider.getFunctionAddress("glTexCoord4hNV");
-        glTexCoord4hvNV = provider.getFunctionAddress("glTexCoord4hvNV");
-        glMultiTexCoord1hNV = provider.getFunctionAddress("glMultiTexCoord1hNV");
-        glMultiTexCoord1hvNV = provider.getFunctionAddress("glMultiTexCoord1hvNV");
-        glMultiTexCoord2hNV = provider.getFunctionAddress("glMultiTexCoord2hNV");
-        glMultiTexCoord2hvNV = provider.getFunctionAddress("glMultiTexCoord2hvNV");
-        glMultiTexCoord3hNV = provider.getFunctionAddress("glMultiTexCoord3hNV");
-        glMultiTexCoord3hvNV = provider.getFunctionAddress("glMultiTexCoord3hvNV");
-        glMultiTexCoord4hNV = provider.getFunctionAddress("glMultiTexCoord4hNV");
-        glMultiTexCoord4hvNV = provider.getFunctionAddress("glMultiTexCoord4hvNV");
-        glFogCoordhNV = provider.getFunctionAddress("glFogCoordhNV");
-        glFogCoordhvNV = provider.getFunctionAddress("glFogCoordhvNV");
-        glSecondaryColor3hNV = provider.getFunctionAddress("glSecondaryColor3hNV");
-        glSecondaryColor3hvNV = provider.getFunctionAddress("glSecondaryColor3hvNV");
-        glVertexWeighthNV = provider.getFunctionAddress("glVertexWeighthNV");
-        glVertexWeighthvNV = provider.getFunctionAddress("glVertexWeighthvNV");
-        glVertexAttrib1hNV = provider.getFunctionAddress("glVertexAttrib1hNV");
-        glVertexAttrib1hvNV = provider.getFunctionAddress("glVertexAttrib1hvNV");
-        glVertexAttrib2hNV = provider.getFunctionAddress("glVertexAttrib2hNV");
-        glVertexAttrib2hvNV = provider.getFunctionAddress("glVertexAttrib2hvNV");
-        glVertexAttrib3hNV = provider.getFunctionAddress("glVertexAttrib3hNV");
-        glVertexAttrib3hvNV = provider.getFunctionAddress("glVertexAttrib3hvNV");
-        glVertexAttrib4hNV = provider.getFunctionAddress("glVertexAttrib4hNV");
-        glVertexAttrib4hvNV = provider.getFunctionAddress("glVertexAttrib4hvNV");
-        glVertexAttribs1hvNV = provider.getFunctionAddress("glVertexAttribs1hvNV");
-        glVertexAttribs2hvNV = provider.getFunctionAddress("glVertexAttribs2hvNV");
-        glVertexAttribs3hvNV = provider.getFunctionAddress("glVertexAttribs3hvNV");
-        glVertexAttribs4hvNV = provider.getFunctionAddress("glVertexAttribs4hvNV");
-        glGetInternalformatSampleivNV = provider.getFunctionAddress("glGetInternalformatSampleivNV");
-        glGetMemoryObjectDetachedResourcesuivNV = provider.getFunctionAddress("glGetMemoryObjectDetachedResourcesuivNV");
-        glResetMemoryObjectParameterNV = provider.getFunctionAddress("glResetMemoryObjectParameterNV");
-        glTexAttachMemoryNV = provider.getFunctionAddress("glTexAttachMemoryNV");
-        glBufferAttachMemoryNV = provider.getFunctionAddress("glBufferAttachMemoryNV");
-        glTextureAttachMemoryNV = provider.getFunctionAddress("glTextureAttachMemoryNV");
-        glNamedBufferAttachMemoryNV = provider.getFunctionAddress("glNamedBufferAttachMemoryNV");
-        glDrawMeshTasksNV = provider.getFunctionAddress("glDrawMeshTasksNV");
-        glDrawMeshTasksIndirectNV = provider.getFunctionAddress("glDrawMeshTasksIndirectNV");
-        glMultiDrawMeshTasksIndirectNV = provider.getFunctionAddress("glMultiDrawMeshTasksIndirectNV");
-        glMultiDrawMeshTasksIndirectCountNV = provider.getFunctionAddress("glMultiDrawMeshTasksIndirectCountNV");
-        glPathCommandsNV = provider.getFunctionAddress("glPathCommandsNV");
-        glPathCoordsNV = provider.getFunctionAddress("glPathCoordsNV");
-        glPathSubCommandsNV = provider.getFunctionAddress("glPathSubCommandsNV");
-        glPathSubCoordsNV = provider.getFunctionAddress("glPathSubCoordsNV");
-        glPathStringNV = provider.getFunctionAddress("glPathStringNV");
-        glPathGlyphsNV = provider.getFunctionAddress("glPathGlyphsNV");
-        glPathGlyphRangeNV = provider.getFunctionAddress("glPathGlyphRangeNV");
-        glPathGlyphIndexArrayNV = provider.getFunctionAddress("glPathGlyphIndexArrayNV");
-        glPathMemoryGlyphIndexArrayNV = provider.getFunctionAddress("glPathMemoryGlyphIndexArrayNV");
-        glCopyPathNV = provider.getFunctionAddress("glCopyPathNV");
-        glWeightPathsNV = provider.getFunctionAddress("glWeightPathsNV");
-        glInterpolatePathsNV = provider.getFunctionAddress("glInterpolatePathsNV");
-        glTransformPathNV = provider.getFunctionAddress("glTransformPathNV");
-        glPathParameterivNV = provider.getFunctionAddress("glPathParameterivNV");
-        glPathParameteriNV = provider.getFunctionAddress("glPathParameteriNV");
-        glPathParameterfvNV = provider.getFunctionAddress("glPathParameterfvNV");
-        glPathParameterfNV = provider.getFunctionAddress("glPathParameterfNV");
-        glPathDashArrayNV = provider.getFunctionAddress("glPathDashArrayNV");
-        glGenPathsNV = provider.getFunctionAddress("glGenPathsNV");
-        glDeletePathsNV = provider.getFunctionAddress("glDeletePathsNV");
-        glIsPathNV = provider.getFunctionAddress("glIsPathNV");
-        glPathStencilFuncNV = provider.getFunctionAddress("glPathStencilFuncNV");
-        glPathStencilDepthOffsetNV = provider.getFunctionAddress("glPathStencilDepthOffsetNV");
-        glStencilFillPathNV = provider.getFunctionAddress("glStencilFillPathNV");
-        glStencilStrokePathNV = provider.getFunctionAddress("glStencilStrokePathNV");
-        glStencilFillPathInstancedNV = provider.getFunctionAddress("glStencilFillPathInstancedNV");
-        glStencilStrokePathInstancedNV = provider.getFunctionAddress("glStencilStrokePathInstancedNV");
-        glPathCoverDepthFuncNV = provider.getFunctionAddress("glPathCoverDepthFuncNV");
-        glPathColorGenNV = provider.getFunctionAddress("glPathColorGenNV");
-        glPathTexGenNV = provider.getFunctionAddress("glPathTexGenNV");
-        glPathFogGenNV = provider.getFunctionAddress("glPathFogGenNV");
-        glCoverFillPathNV = provider.getFunctionAddress("glCoverFillPathNV");
-        glCoverStrokePathNV = provider.getFunctionAddress("glCoverStrokePathNV");
-        glCoverFillPathInstancedNV = provider.getFunctionAddress("glCoverFillPathInstancedNV");
-        glCoverStrokePathInstancedNV = provider.getFunctionAddress("glCoverStrokePathInstancedNV");
-        glStencilThenCoverFillPathNV = provider.getFunctionAddress("glStencilThenCoverFillPathNV");
-        glStencilThenCoverStrokePathNV = provider.getFunctionAddress("glStencilThenCoverStrokePathNV");
-        glStencilThenCoverFillPathInstancedNV = provider.getFunctionAddress("glStencilThenCoverFillPathInstancedNV");
-        glStencilThenCoverStrokePathInstancedNV = provider.getFunctionAddress("glStencilThenCoverStrokePathInstancedNV");
-        glPathGlyphIndexRangeNV = provider.getFunctionAddress("glPathGlyphIndexRangeNV");
-        glProgramPathFragmentInputGenNV = provider.getFunctionAddress("glProgramPathFragmentInputGenNV");
-        glGetPathParameterivNV = provider.getFunctionAddress("glGetPathParameterivNV");
-        glGetPathParameterfvNV = provider.getFunctionAddress("glGetPathParameterfvNV");
-        glGetPathCommandsNV = provider.getFunctionAddress("glGetPathCommandsNV");
-        glGetPathCoordsNV = provider.getFunctionAddress("glGetPathCoordsNV");
-        glGetPathDashArrayNV = provider.getFunctionAddress("glGetPathDashArrayNV");
-        glGetPathMetricsNV = provider.getFunctionAddress("glGetPathMetricsNV");
-        glGetPathMetricRangeNV = provider.getFunctionAddress("glGetPathMetricRangeNV");
-        glGetPathSpacingNV = provider.getFunctionAddress("glGetPathSpacingNV");
-        glGetPathColorGenivNV = provider.getFunctionAddress("glGetPathColorGenivNV");
-        glGetPathColorGenfvNV = provider.getFunctionAddress("glGetPathColorGenfvNV");
-        glGetPathTexGenivNV = provider.getFunctionAddress("glGetPathTexGenivNV");
-        glGetPathTexGenfvNV = provider.getFunctionAddress("glGetPathTexGenfvNV");
-        glIsPointInFillPathNV = provider.getFunctionAddress("glIsPointInFillPathNV");
-        glIsPointInStrokePathNV = provider.getFunctionAddress("glIsPointInStrokePathNV");
-        glGetPathLengthNV = provider.getFunctionAddress("glGetPathLengthNV");
-        glPointAlongPathNV = provider.getFunctionAddress("glPointAlongPathNV");
-        glMatrixLoad3x2fNV = provider.getFunctionAddress("glMatrixLoad3x2fNV");
-        glMatrixLoad3x3fNV = provider.getFunctionAddress("glMatrixLoad3x3fNV");
-        glMatrixLoadTranspose3x3fNV = provider.getFunctionAddress("glMatrixLoadTranspose3x3fNV");
-        glMatrixMult3x2fNV = provider.getFunctionAddress("glMatrixMult3x2fNV");
-        glMatrixMult3x3fNV = provider.getFunctionAddress("glMatrixMult3x3fNV");
-        glMatrixMultTranspose3x3fNV = provider.getFunctionAddress("glMatrixMultTranspose3x3fNV");
-        glGetProgramResourcefvNV = provider.getFunctionAddress("glGetProgramResourcefvNV");
-        glPixelDataRangeNV = provider.getFunctionAddress("glPixelDataRangeNV");
-        glFlushPixelDataRangeNV = provider.getFunctionAddress("glFlushPixelDataRangeNV");
-        glPointParameteriNV = provider.getFunctionAddress("glPointParameteriNV");
-        glPointParameterivNV = provider.getFunctionAddress("glPointParameterivNV");
-        glPrimitiveRestartNV = provider.getFunctionAddress("glPrimitiveRestartNV");
-        glPrimitiveRestartIndexNV = provider.getFunctionAddress("glPrimitiveRestartIndexNV");
-        glQueryResourceNV = provider.getFunctionAddress("glQueryResourceNV");
-        glGenQueryResourceTagNV = provider.getFunctionAddress("glGenQueryResourceTagNV");
-        glDeleteQueryResourceTagNV = provider.getFunctionAddress("glDeleteQueryResourceTagNV");
-        glQueryResourceTagNV = provider.getFunctionAddress("glQueryResourceTagNV");
-        glFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glFramebufferSampleLocationsfvNV");
-        glNamedFramebufferSampleLocationsfvNV = provider.getFunctionAddress("glNamedFramebufferSampleLocationsfvNV");
-        glResolveDepthValuesNV = provider.getFunctionAddress("glResolveDepthValuesNV");
-        glScissorExclusiveArrayvNV = provider.getFunctionAddress("glScissorExclusiveArrayvNV");
-        glScissorExclusiveNV = provider.getFunctionAddress("glScissorExclusiveNV");
-        glMakeBufferResidentNV = provider.getFunctionAddress("glMakeBufferResidentNV");
-        glMakeBufferNonResidentNV = provider.getFunctionAddress("glMakeBufferNonResidentNV");
-        glIsBufferResidentNV = provider.getFunctionAddress("glIsBufferResidentNV");
-        glMakeNamedBufferResidentNV = provider.getFunctionAddress("glMakeNamedBufferResidentNV");
-        glMakeNamedBufferNonResidentNV = provider.getFunctionAddress("glMakeNamedBufferNonResidentNV");
-        glIsNamedBufferResidentNV = provider.getFunctionAddress("glIsNamedBufferResidentNV");
-        glGetBufferParameterui64vNV = provider.getFunctionAddress("glGetBufferParameterui64vNV");
-        glGetNamedBufferParameterui64vNV = provider.getFunctionAddress("glGetNamedBufferParameterui64vNV");
-        glGetIntegerui64vNV = provider.getFunctionAddress("glGetIntegerui64vNV");
-        glUniformui64NV = provider.getFunctionAddress("glUniformui64NV");
-        glUniformui64vNV = provider.getFunctionAddress("glUniformui64vNV");
-        glGetUniformui64vNV = provider.getFunctionAddress("glGetUniformui64vNV");
-        glProgramUniformui64NV = provider.getFunctionAddress("glProgramUniformui64NV");
-        glProgramUniformui64vNV = provider.getFunctionAddress("glProgramUniformui64vNV");
-        glBindShadingRateImageNV = provider.getFunctionAddress("glBindShadingRateImageNV");
-        glShadingRateImagePaletteNV = provider.getFunctionAddress("glShadingRateImagePaletteNV");
-        glGetShadingRateImagePaletteNV = provider.getFunctionAddress("glGetShadingRateImagePaletteNV");
-        glShadingRateImageBarrierNV = provider.getFunctionAddress("glShadingRateImageBarrierNV");
-        glShadingRateSampleOrderNV = provider.getFunctionAddress("glShadingRateSampleOrderNV");
-        glShadingRateSampleOrderCustomNV = provider.getFunctionAddress("glShadingRateSampleOrderCustomNV");
-        glGetShadingRateSampleLocationivNV = provider.getFunctionAddress("glGetShadingRateSampleLocationivNV");
-        glTextureBarrierNV = provider.getFunctionAddress("glTextureBarrierNV");
-        glTexImage2DMultisampleCoverageNV = provider.getFunctionAddress("glTexImage2DMultisampleCoverageNV");
-        glTexImage3DMultisampleCoverageNV = provider.getFunctionAddress("glTexImage3DMultisampleCoverageNV");
-        glTextureImage2DMultisampleNV = provider.getFunctionAddress("glTextureImage2DMultisampleNV");
-        glTextureImage3DMultisampleNV = provider.getFunctionAddress("glTextureImage3DMultisampleNV");
-        glTextureImage2DMultisampleCoverageNV = provider.getFunctionAddress("glTextureImage2DMultisampleCoverageNV");
-        glTextureImage3DMultisampleCoverageNV = provider.getFunctionAddress("glTextureImage3DMultisampleCoverageNV");
-        glBeginTransformFeedbackNV = provider.getFunctionAddress("glBeginTransformFeedbackNV");
-        glEndTransformFeedbackNV = provider.getFunctionAddress("glEndTransformFeedbackNV");
-        glTransformFeedbackAttribsNV = provider.getFunctionAddress("glTransformFeedbackAttribsNV");
-        glBindBufferRangeNV = provider.getFunctionAddress("glBindBufferRangeNV");
-        glBindBufferOffsetNV = provider.getFunctionAddress("glBindBufferOffsetNV");
-        glBindBufferBaseNV = provider.getFunctionAddress("glBindBufferBaseNV");
-        glTransformFeedbackVaryingsNV = provider.getFunctionAddress("glTransformFeedbackVaryingsNV");
-        glActiveVaryingNV = provider.getFunctionAddress("glActiveVaryingNV");
-        glGetVaryingLocationNV = provider.getFunctionAddress("glGetVaryingLocationNV");
-        glGetActiveVaryingNV = provider.getFunctionAddress("glGetActiveVaryingNV");
-        glGetTransformFeedbackVaryingNV = provider.getFunctionAddress("glGetTransformFeedbackVaryingNV");
-        glTransformFeedbackStreamAttribsNV = provider.getFunctionAddress("glTransformFeedbackStreamAttribsNV");
-        glBindTransformFeedbackNV = provider.getFunctionAddress("glBindTransformFeedbackNV");
-        glDeleteTransformFeedbacksNV = provider.getFunctionAddress("glDeleteTransformFeedbacksNV");
-        glGenTransformFeedbacksNV = provider.getFunctionAddress("glGenTransformFeedbacksNV");
-        glIsTransformFeedbackNV = provider.getFunctionAddress("glIsTransformFeedbackNV");
-        glPauseTransformFeedbackNV = provider.getFunctionAddress("glPauseTransformFeedbackNV");
-        glResumeTransformFeedbackNV = provider.getFunctionAddress("glResumeTransformFeedbackNV");
-        glDrawTransformFeedbackNV = provider.getFunctionAddress("glDrawTransformFeedbackNV");
-        glVertexArrayRangeNV = provider.getFunctionAddress("glVertexArrayRangeNV");
-        glFlushVertexArrayRangeNV = provider.getFunctionAddress("glFlushVertexArrayRangeNV");
-        glVertexAttribL1i64NV = provider.getFunctionAddress("glVertexAttribL1i64NV");
-        glVertexAttribL2i64NV = provider.getFunctionAddress("glVertexAttribL2i64NV");
-        glVertexAttribL3i64NV = provider.getFunctionAddress("glVertexAttribL3i64NV");
-        glVertexAttribL4i64NV = provider.getFunctionAddress("glVertexAttribL4i64NV");
-        glVertexAttribL1i64vNV = provider.getFunctionAddress("glVertexAttribL1i64vNV");
-        glVertexAttribL2i64vNV = provider.getFunctionAddress("glVertexAttribL2i64vNV");
-        glVertexAttribL3i64vNV = provider.getFunctionAddress("glVertexAttribL3i64vNV");
-        glVertexAttribL4i64vNV = provider.getFunctionAddress("glVertexAttribL4i64vNV");
-        glVertexAttribL1ui64NV = provider.getFunctionAddress("glVertexAttribL1ui64NV");
-        glVertexAttribL2ui64NV = provider.getFunctionAddress("glVertexAttribL2ui64NV");
-        glVertexAttribL3ui64NV = provider.getFunctionAddress("glVertexAttribL3ui64NV");
-        glVertexAttribL4ui64NV = provider.getFunctionAddress("glVertexAttribL4ui64NV");
-        glVertexAttribL1ui64vNV = provider.getFunctionAddress("glVertexAttribL1ui64vNV");
-        glVertexAttribL2ui64vNV = provider.getFunctionAddress("glVertexAttribL2ui64vNV");
-        glVertexAttribL3ui64vNV = provider.getFunctionAddress("glVertexAttribL3ui64vNV");
-        glVertexAttribL4ui64vNV = provider.getFunctionAddress("glVertexAttribL4ui64vNV");
-        glGetVertexAttribLi64vNV = provider.getFunctionAddress("glGetVertexAttribLi64vNV");
-        glGetVertexAttribLui64vNV = provider.getFunctionAddress("glGetVertexAttribLui64vNV");
-        glVertexAttribLFormatNV = provider.getFunctionAddress("glVertexAttribLFormatNV");
-        glBufferAddressRangeNV = provider.getFunctionAddress("glBufferAddressRangeNV");
-        glVertexFormatNV = provider.getFunctionAddress("glVertexFormatNV");
-        glNormalFormatNV = provider.getFunctionAddress("glNormalFormatNV");
-        glColorFormatNV = provider.getFunctionAddress("glColorFormatNV");
-        glIndexFormatNV = provider.getFunctionAddress("glIndexFormatNV");
-        glTexCoordFormatNV = provider.getFunctionAddress("glTexCoordFormatNV");
-        glEdgeFlagFormatNV = provider.getFunctionAddress("glEdgeFlagFormatNV");
-        glSecondaryColorFormatNV = provider.getFunctionAddress("glSecondaryColorFormatNV");
-        glFogCoordFormatNV = provider.getFunctionAddress("glFogCoordFormatNV");
-        glVertexAttribFormatNV = provider.getFunctionAddress("glVertexAttribFormatNV");
-        glVertexAttribIFormatNV = provider.getFunctionAddress("glVertexAttribIFormatNV");
-        glGetIntegerui64i_vNV = provider.getFunctionAddress("glGetIntegerui64i_vNV");
-        glViewportSwizzleNV = provider.getFunctionAddress("glViewportSwizzleNV");
-        glBeginConditionalRenderNVX = provider.getFunctionAddress("glBeginConditionalRenderNVX");
-        glEndConditionalRenderNVX = provider.getFunctionAddress("glEndConditionalRenderNVX");
-        glAsyncCopyImageSubDataNVX = provider.getFunctionAddress("glAsyncCopyImageSubDataNVX");
-        glAsyncCopyBufferSubDataNVX = provider.getFunctionAddress("glAsyncCopyBufferSubDataNVX");
-        glUploadGpuMaskNVX = provider.getFunctionAddress("glUploadGpuMaskNVX");
-        glMulticastViewportArrayvNVX = provider.getFunctionAddress("glMulticastViewportArrayvNVX");
-        glMulticastScissorArrayvNVX = provider.getFunctionAddress("glMulticastScissorArrayvNVX");
-        glMulticastViewportPositionWScaleNVX = provider.getFunctionAddress("glMulticastViewportPositionWScaleNVX");
-        glCreateProgressFenceNVX = provider.getFunctionAddress("glCreateProgressFenceNVX");
-        glSignalSemaphoreui64NVX = provider.getFunctionAddress("glSignalSemaphoreui64NVX");
-        glWaitSemaphoreui64NVX = provider.getFunctionAddress("glWaitSemaphoreui64NVX");
-        glClientWaitSemaphoreui64NVX = provider.getFunctionAddress("glClientWaitSemaphoreui64NVX");
-        glFramebufferTextureMultiviewOVR = provider.getFunctionAddress("glFramebufferTextureMultiviewOVR");
-        glNamedFramebufferTextureMultiviewOVR = provider.getFunctionAddress("glNamedFramebufferTextureMultiviewOVR");
+        boolean[] unsupported = supportedOnly ? getUnsupportedFunctions(ext) : null;
+
+        glAccum = getFunctionAddress(fc, provider, unsupported, 0, "glAccum");
+        glAlphaFunc = getFunctionAddress(fc, provider, unsupported, 1, "glAlphaFunc");
+        glAreTexturesResident = getFunctionAddress(fc, provider, unsupported, 2, "glAreTexturesResident");
+        glArrayElement = getFunctionAddress(fc, provider, unsupported, 3, "glArrayElement");
+        glBegin = getFunctionAddress(fc, provider, unsupported, 4, "glBegin");
+        glBitmap = getFunctionAddress(fc, provider, unsupported, 5, "glBitmap");
+        glCallList = getFunctionAddress(fc, provider, unsupported, 6, "glCallList");
+        glCallLists = getFunctionAddress(fc, provider, unsupported, 7, "glCallLists");
+        glClearAccum = getFunctionAddress(fc, provider, unsupported, 8, "glClearAccum");
+        glClearIndex = getFunctionAddress(fc, provider, unsupported, 9, "glClearIndex");
+        glClipPlane = getFunctionAddress(fc, provider, unsupported, 10, "glClipPlane");
+        glColor3b = getFunctionAddress(fc, provider, unsupported, 11, "glColor3b");
+        glColor3s = getFunctionAddress(fc, provider, unsupported, 12, "glColor3s");
+        glColor3i = getFunctionAddress(fc, provider, unsupported, 13, "glColor3i");
+        glColor3f = getFunctionAddress(fc, provider, unsupported, 14, "glColor3f");
+        glColor3d = getFunctionAddress(fc, provider, unsupported, 15, "glColor3d");
+        glColor3ub = getFunctionAddress(fc, provider, unsupported, 16, "glColor3ub");
+        glColor3us = getFunctionAddress(fc, provider, unsupported, 17, "glColor3us");
+        glColor3ui = getFunctionAddress(fc, provider, unsupported, 18, "glColor3ui");
+        glColor3bv = getFunctionAddress(fc, provider, unsupported, 19, "glColor3bv");
+        glColor3sv = getFunctionAddress(fc, provider, unsupported, 20, "glColor3sv");
+        glColor3iv = getFunctionAddress(fc, provider, unsupported, 21, "glColor3iv");
+        glColor3fv = getFunctionAddress(fc, provider, unsupported, 22, "glColor3fv");
+        glColor3dv = getFunctionAddress(fc, provider, unsupported, 23, "glColor3dv");
+        glColor3ubv = getFunctionAddress(fc, provider, unsupported, 24, "glColor3ubv");
+        glColor3usv = getFunctionAddress(fc, provider, unsupported, 25, "glColor3usv");
+        glColor3uiv = getFunctionAddress(fc, provider, unsupported, 26, "glColor3uiv");
+        glColor4b = getFunctionAddress(fc, provider, unsupported, 27, "glColor4b");
+        glColor4s = getFunctionAddress(fc, provider, unsupported, 28, "glColor4s");
+        glColor4i = getFunctionAddress(fc, provider, unsupported, 29, "glColor4i");
+        glColor4f = getFunctionAddress(fc, provider, unsupported, 30, "glColor4f");
+        glColor4d = getFunctionAddress(fc, provider, unsupported, 31, "glColor4d");
+        glColor4ub = getFunctionAddress(fc, provider, unsupported, 32, "glColor4ub");
+        glColor4us = getFunctionAddress(fc, provider, unsupported, 33, "glColor4us");
+        glColor4ui = getFunctionAddress(fc, provider, unsupported, 34, "glColor4ui");
+        glColor4bv = getFunctionAddress(fc, provider, unsupported, 35, "glColor4bv");
+        glColor4sv = getFunctionAddress(fc, provider, unsupported, 36, "glColor4sv");
+        glColor4iv = getFunctionAddress(fc, provider, unsupported, 37, "glColor4iv");
+        glColor4fv = getFunctionAddress(fc, provider, unsupported, 38, "glColor4fv");
+        glColor4dv = getFunctionAddress(fc, provider, unsupported, 39, "glColor4dv");
+        glColor4ubv = getFunctionAddress(fc, provider, unsupported, 40, "glColor4ubv");
+        glColor4usv = getFunctionAddress(fc, provider, unsupported, 41, "glColor4usv");
+        glColor4uiv = getFunctionAddress(fc, provider, unsupported, 42, "glColor4uiv");
+        glColorMaterial = getFunctionAddress(fc, provider, unsupported, 43, "glColorMaterial");
+        glColorPointer = getFunctionAddress(fc, provider, unsupported, 44, "glColorPointer");
+        glCopyPixels = getFunctionAddress(fc, provider, unsupported, 45, "glCopyPixels");
+        glDeleteLists = getFunctionAddress(fc, provider, unsupported, 46, "glDeleteLists");
+        glDisableClientState = getFunctionAddress(provider, unsupported, 47, "glDisableClientState");
+        glDrawPixels = getFunctionAddress(fc, provider, unsupported, 48, "glDrawPixels");
+        glEdgeFlag = getFunctionAddress(fc, provider, unsupported, 49, "glEdgeFlag");
+        glEdgeFlagv = getFunctionAddress(fc, provider, unsupported, 50, "glEdgeFlagv");
+        glEdgeFlagPointer = getFunctionAddress(fc, provider, unsupported, 51, "glEdgeFlagPointer");
+        glEnableClientState = getFunctionAddress(provider, unsupported, 52, "glEnableClientState");
+        glEnd = getFunctionAddress(fc, provider, unsupported, 53, "glEnd");
+        glEvalCoord1f = getFunctionAddress(fc, provider, unsupported, 54, "glEvalCoord1f");
+        glEvalCoord1fv = getFunctionAddress(fc, provider, unsupported, 55, "glEvalCoord1fv");
+        glEvalCoord1d = getFunctionAddress(fc, provider, unsupported, 56, "glEvalCoord1d");
+        glEvalCoord1dv = getFunctionAddress(fc, provider, unsupported, 57, "glEvalCoord1dv");
+        glEvalCoord2f = getFunctionAddress(fc, provider, unsupported, 58, "glEvalCoord2f");
+        glEvalCoord2fv = getFunctionAddress(fc, provider, unsupported, 59, "glEvalCoord2fv");
+        glEvalCoord2d = getFunctionAddress(fc, provider, unsupported, 60, "glEvalCoord2d");
+        glEvalCoord2dv = getFunctionAddress(fc, provider, unsupported, 61, "glEvalCoord2dv");
+        glEvalMesh1 = getFunctionAddress(fc, provider, unsupported, 62, "glEvalMesh1");
+        glEvalMesh2 = getFunctionAddress(fc, provider, unsupported, 63, "glEvalMesh2");
+        glEvalPoint1 = getFunctionAddress(fc, provider, unsupported, 64, "glEvalPoint1");
+        glEvalPoint2 = getFunctionAddress(fc, provider, unsupported, 65, "glEvalPoint2");
+        glFeedbackBuffer = getFunctionAddress(fc, provider, unsupported, 66, "glFeedbackBuffer");
+        glFogi = getFunctionAddress(fc, provider, unsupported, 67, "glFogi");
+        glFogiv = getFunctionAddress(fc, provider, unsupported, 68, "glFogiv");
+        glFogf = getFunctionAddress(fc, provider, unsupported, 69, "glFogf");
+        glFogfv = getFunctionAddress(fc, provider, unsupported, 70, "glFogfv");
+        glGenLists = getFunctionAddress(fc, provider, unsupported, 71, "glGenLists");
+        glGetClipPlane = getFunctionAddress(fc, provider, unsupported, 72, "glGetClipPlane");
+        glGetLightiv = getFunctionAddress(fc, provider, unsupported, 73, "glGetLightiv");
+        glGetLightfv = getFunctionAddress(fc, provider, unsupported, 74, "glGetLightfv");
+        glGetMapiv = getFunctionAddress(fc, provider, unsupported, 75, "glGetMapiv");
+        glGetMapfv = getFunctionAddress(fc, provider, unsupported, 76, "glGetMapfv");
+        glGetMapdv = getFunctionAddress(fc, provider, unsupported, 77, "glGetMapdv");
+        glGetMaterialiv = getFunctionAddress(fc, provider, unsupported, 78, "glGetMaterialiv");
+        glGetMaterialfv = getFunctionAddress(fc, provider, unsupported, 79, "glGetMaterialfv");
+        glGetPixelMapfv = getFunctionAddress(fc, provider, unsupported, 80, "glGetPixelMapfv");
+        glGetPixelMapusv = getFunctionAddress(fc, provider, unsupported, 81, "glGetPixelMapusv");
+        glGetPixelMapuiv = getFunctionAddress(fc, provider, unsupported, 82, "glGetPixelMapuiv");
+        glGetPolygonStipple = getFunctionAddress(fc, provider, unsupported, 83, "glGetPolygonStipple");
+        glGetTexEnviv = getFunctionAddress(fc, provider, unsupported, 84, "glGetTexEnviv");
+        glGetTexEnvfv = getFunctionAddress(fc, provider, unsupported, 85, "glGetTexEnvfv");
+        glGetTexGeniv = getFunctionAddress(fc, provider, unsupported, 86, "glGetTexGeniv");
+        glGetTexGenfv = getFunctionAddress(fc, provider, unsupported, 87, "glGetTexGenfv");
+        glGetTexGendv = getFunctionAddress(fc, provider, unsupported, 88, "glGetTexGendv");
+        glIndexi = getFunctionAddress(fc, provider, unsupported, 89, "glIndexi");
+        glIndexub = getFunctionAddress(fc, provider, unsupported, 90, "glIndexub");
+        glIndexs = getFunctionAddress(fc, provider, unsupported, 91, "glIndexs");
+        glIndexf = getFunctionAddress(fc, provider, unsupported, 92, "glIndexf");
+        glIndexd = getFunctionAddress(fc, provider, unsupported, 93, "glIndexd");
+        glIndexiv = getFunctionAddress(fc, provider, unsupported, 94, "glIndexiv");
+        glIndexubv = getFunctionAddress(fc, provider, unsupported, 95, "glIndexubv");
+        glIndexsv = getFunctionAddress(fc, provider, unsupported, 96, "glIndexsv");
+        glIndexfv = getFunctionAddress(fc, provider, unsupported, 97, "glIndexfv");
+        glIndexdv = getFunctionAddress(fc, provider, unsupported, 98, "glIndexdv");
+        glIndexMask = getFunctionAddress(fc, provider, unsupported, 99, "glIndexMask");
+        glIndexPointer = getFunctionAddress(fc, provider, unsupported, 100, "glIndexPointer");
+        glInitNames = getFunctionAddress(fc, provider, unsupported, 101, "glInitNames");
+        glInterleavedArrays = getFunctionAddress(fc, provider, unsupported, 102, "glInterleavedArrays");
+        glIsList = getFunctionAddress(fc, provider, unsupported, 103, "glIsList");
+        glLightModeli = getFunctionAddress(fc, provider, unsupported, 104, "glLightModeli");
+        glLightModelf = getFunctionAddress(fc, provider, unsupported, 105, "glLightModelf");
+        glLightModeliv = getFunctionAddress(fc, provider, unsupported, 106, "glLightModeliv");
+        glLightModelfv = getFunctionAddress(fc, provider, unsupported, 107, "glLightModelfv");
+        glLighti = getFunctionAddress(fc, provider, unsupported, 108, "glLighti");
+        glLightf = getFunctionAddress(fc, provider, unsupported, 109, "glLightf");
+        glLightiv = getFunctionAddress(fc, provider, unsupported, 110, "glLightiv");
+        glLightfv = getFunctionAddress(fc, provider, unsupported, 111, "glLightfv");
+        glLineStipple = getFunctionAddress(fc, provider, unsupported, 112, "glLineStipple");
+        glListBase = getFunctionAddress(fc, provider, unsupported, 113, "glListBase");
+        glLoadMatrixf = getFunctionAddress(fc, provider, unsupported, 114, "glLoadMatrixf");
+        glLoadMatrixd = getFunctionAddress(fc, provider, unsupported, 115, "glLoadMatrixd");
+        glLoadIdentity = getFunctionAddress(fc, provider, unsupported, 116, "glLoadIdentity");
+        glLoadName = getFunctionAddress(fc, provider, unsupported, 117, "glLoadName");
+        glMap1f = getFunctionAddress(fc, provider, unsupported, 118, "glMap1f");
+        glMap1d = getFunctionAddress(fc, provider, unsupported, 119, "glMap1d");
+        glMap2f = getFunctionAddress(fc, provider, unsupported, 120, "glMap2f");
+        glMap2d = getFunctionAddress(fc, provider, unsupported, 121, "glMap2d");
+        glMapGrid1f = getFunctionAddress(fc, provider, unsupported, 122, "glMapGrid1f");
+        glMapGrid1d = getFunctionAddress(fc, provider, unsupported, 123, "glMapGrid1d");
+        glMapGrid2f = getFunctionAddress(fc, provider, unsupported, 124, "glMapGrid2f");
+        glMapGrid2d = getFunctionAddress(fc, provider, unsupported, 125, "glMapGrid2d");
+        glMateriali = getFunctionAddress(fc, provider, unsupported, 126, "glMateriali");
+        glMaterialf = getFunctionAddress(fc, provider, unsupported, 127, "glMaterialf");
+        glMaterialiv = getFunctionAddress(fc, provider, unsupported, 128, "glMaterialiv");
+        glMaterialfv = getFunctionAddress(fc, provider, unsupported, 129, "glMaterialfv");
+        glMatrixMode = getFunctionAddress(fc, provider, unsupported, 130, "glMatrixMode");
+        glMultMatrixf = getFunctionAddress(fc, provider, unsupported, 131, "glMultMatrixf");
+        glMultMatrixd = getFunctionAddress(fc, provider, unsupported, 132, "glMultMatrixd");
+        glFrustum = getFunctionAddress(fc, provider, unsupported, 133, "glFrustum");
+        glNewList = getFunctionAddress(fc, provider, unsupported, 134, "glNewList");
+        glEndList = getFunctionAddress(fc, provider, unsupported, 135, "glEndList");
+        glNormal3f = getFunctionAddress(fc, provider, unsupported, 136, "glNormal3f");
+        glNormal3b = getFunctionAddress(fc, provider, unsupported, 137, "glNormal3b");
+        glNormal3s = getFunctionAddress(fc, provider, unsupported, 138, "glNormal3s");
+        glNormal3i = getFunctionAddress(fc, provider, unsupported, 139, "glNormal3i");
+        glNormal3d = getFunctionAddress(fc, provider, unsupported, 140, "glNormal3d");
+        glNormal3fv = getFunctionAddress(fc, provider, unsupported, 141, "glNormal3fv");
+        glNormal3bv = getFunctionAddress(fc, provider, unsupported, 142, "glNormal3bv");
+        glNormal3sv = getFunctionAddress(fc, provider, unsupported, 143, "glNormal3sv");
+        glNormal3iv = getFunctionAddress(fc, provider, unsupported, 144, "glNormal3iv");
+        glNormal3dv = getFunctionAddress(fc, provider, unsupported, 145, "glNormal3dv");
+        glNormalPointer = getFunctionAddress(fc, provider, unsupported, 146, "glNormalPointer");
+        glOrtho = getFunctionAddress(fc, provider, unsupported, 147, "glOrtho");
+        glPassThrough = getFunctionAddress(fc, provider, unsupported, 148, "glPassThrough");
+        glPixelMapfv = getFunctionAddress(fc, provider, unsupported, 149, "glPixelMapfv");
+        glPixelMapusv = getFunctionAddress(fc, provider, unsupported, 150, "glPixelMapusv");
+        glPixelMapuiv = getFunctionAddress(fc, provider, unsupported, 151, "glPixelMapuiv");
+        glPixelTransferi = getFunctionAddress(fc, provider, unsupported, 152, "glPixelTransferi");
+        glPixelTransferf = getFunctionAddress(fc, provider, unsupported, 153, "glPixelTransferf");
+        glPixelZoom = getFunctionAddress(fc, provider, unsupported, 154, "glPixelZoom");
+        glPolygonStipple = getFunctionAddress(fc, provider, unsupported, 155, "glPolygonStipple");
+        glPushAttrib = getFunctionAddress(fc, provider, unsupported, 156, "glPushAttrib");
+        glPushClientAttrib = getFunctionAddress(fc, provider, unsupported, 157, "glPushClientAttrib");
+        glPopAttrib = getFunctionAddress(fc, provider, unsupported, 158, "glPopAttrib");
+        glPopClientAttrib = getFunctionAddress(fc, provider, unsupported, 159, "glPopClientAttrib");
+        glPopMatrix = getFunctionAddress(fc, provider, unsupported, 160, "glPopMatrix");
+        glPopName = getFunctionAddress(fc, provider, unsupported, 161, "glPopName");
+        glPrioritizeTextures = getFunctionAddress(fc, provider, unsupported, 162, "glPrioritizeTextures");
+        glPushMatrix = getFunctionAddress(fc, provider, unsupported, 163, "glPushMatrix");
+        glPushName = getFunctionAddress(fc, provider, unsupported, 164, "glPushName");
+        glRasterPos2i = getFunctionAddress(fc, provider, unsupported, 165, "glRasterPos2i");
+        glRasterPos2s = getFunctionAddress(fc, provider, unsupported, 166, "glRasterPos2s");
+        glRasterPos2f = getFunctionAddress(fc, provider, unsupported, 167, "glRasterPos2f");
+        glRasterPos2d = getFunctionAddress(fc, provider, unsupported, 168, "glRasterPos2d");
+        glRasterPos2iv = getFunctionAddress(fc, provider, unsupported, 169, "glRasterPos2iv");
+        glRasterPos2sv = getFunctionAddress(fc, provider, unsupported, 170, "glRasterPos2sv");
+        glRasterPos2fv = getFunctionAddress(fc, provider, unsupported, 171, "glRasterPos2fv");
+        glRasterPos2dv = getFunctionAddress(fc, provider, unsupported, 172, "glRasterPos2dv");
+        glRasterPos3i = getFunctionAddress(fc, provider, unsupported, 173, "glRasterPos3i");
+        glRasterPos3s = getFunctionAddress(fc, provider, unsupported, 174, "glRasterPos3s");
+        glRasterPos3f = getFunctionAddress(fc, provider, unsupported, 175, "glRasterPos3f");
+        glRasterPos3d = getFunctionAddress(fc, provider, unsupported, 176, "glRasterPos3d");
+        glRasterPos3iv = getFunctionAddress(fc, provider, unsupported, 177, "glRasterPos3iv");
+        glRasterPos3sv = getFunctionAddress(fc, provider, unsupported, 178, "glRasterPos3sv");
+        glRasterPos3fv = getFunctionAddress(fc, provider, unsupported, 179, "glRasterPos3fv");
+        glRasterPos3dv = getFunctionAddress(fc, provider, unsupported, 180, "glRasterPos3dv");
+        glRasterPos4i = getFunctionAddress(fc, provider, unsupported, 181, "glRasterPos4i");
+        glRasterPos4s = getFunctionAddress(fc, provider, unsupported, 182, "glRasterPos4s");
+        glRasterPos4f = getFunctionAddress(fc, provider, unsupported, 183, "glRasterPos4f");
+        glRasterPos4d = getFunctionAddress(fc, provider, unsupported, 184, "glRasterPos4d");
+        glRasterPos4iv = getFunctionAddress(fc, provider, unsupported, 185, "glRasterPos4iv");
+        glRasterPos4sv = getFunctionAddress(fc, provider, unsupported, 186, "glRasterPos4sv");
+        glRasterPos4fv = getFunctionAddress(fc, provider, unsupported, 187, "glRasterPos4fv");
+        glRasterPos4dv = getFunctionAddress(fc, provider, unsupported, 188, "glRasterPos4dv");
+        glRecti = getFunctionAddress(fc, provider, unsupported, 189, "glRecti");
+        glRects = getFunctionAddress(fc, provider, unsupported, 190, "glRects");
+        glRectf = getFunctionAddress(fc, provider, unsupported, 191, "glRectf");
+        glRectd = getFunctionAddress(fc, provider, unsupported, 192, "glRectd");
+        glRectiv = getFunctionAddress(fc, provider, unsupported, 193, "glRectiv");
+        glRectsv = getFunctionAddress(fc, provider, unsupported, 194, "glRectsv");
+        glRectfv = getFunctionAddress(fc, provider, unsupported, 195, "glRectfv");
+        glRectdv = getFunctionAddress(fc, provider, unsupported, 196, "glRectdv");
+        glRenderMode = getFunctionAddress(fc, provider, unsupported, 197, "glRenderMode");
+        glRotatef = getFunctionAddress(fc, provider, unsupported, 198, "glRotatef");
+        glRotated = getFunctionAddress(fc, provider, unsupported, 199, "glRotated");
+        glScalef = getFunctionAddress(fc, provider, unsupported, 200, "glScalef");
+        glScaled = getFunctionAddress(fc, provider, unsupported, 201, "glScaled");
+        glSelectBuffer = getFunctionAddress(fc, provider, unsupported, 202, "glSelectBuffer");
+        glShadeModel = getFunctionAddress(fc, provider, unsupported, 203, "glShadeModel");
+        glTexCoord1f = getFunctionAddress(fc, provider, unsupported, 204, "glTexCoord1f");
+        glTexCoord1s = getFunctionAddress(fc, provider, unsupported, 205, "glTexCoord1s");
+        glTexCoord1i = getFunctionAddress(fc, provider, unsupported, 206, "glTexCoord1i");
+        glTexCoord1d = getFunctionAddress(fc, provider, unsupported, 207, "glTexCoord1d");
+        glTexCoord1fv = getFunctionAddress(fc, provider, unsupported, 208, "glTexCoord1fv");
+        glTexCoord1sv = getFunctionAddress(fc, provider, unsupported, 209, "glTexCoord1sv");
+        glTexCoord1iv = getFunctionAddress(fc, provider, unsupported, 210, "glTexCoord1iv");
+        glTexCoord1dv = getFunctionAddress(fc, provider, unsupported, 211, "glTexCoord1dv");
+        glTexCoord2f = getFunctionAddress(fc, provider, unsupported, 212, "glTexCoord2f");
+        glTexCoord2s = getFunctionAddress(fc, provider, unsupported, 213, "glTexCoord2s");
+        glTexCoord2i = getFunctionAddress(fc, provider, unsupported, 214, "glTexCoord2i");
+        glTexCoord2d = getFunctionAddress(fc, provider, unsupported, 215, "glTexCoord2d");
+        glTexCoord2fv = getFunctionAddress(fc, provider, unsupported, 216, "glTexCoord2fv");
+        glTexCoord2sv = getFunctionAddress(fc, provider, unsupported, 217, "glTexCoord2sv");
+        glTexCoord2iv = getFunctionAddress(fc, provider, unsupported, 218, "glTexCoord2iv");
+        glTexCoord2dv = getFunctionAddress(fc, provider, unsupported, 219, "glTexCoord2dv");
+        glTexCoord3f = getFunctionAddress(fc, provider, unsupported, 220, "glTexCoord3f");
+        glTexCoord3s = getFunctionAddress(fc, provider, unsupported, 221, "glTexCoord3s");
+        glTexCoord3i = getFunctionAddress(fc, provider, unsupported, 222, "glTexCoord3i");
+        glTexCoord3d = getFunctionAddress(fc, provider, unsupported, 223, "glTexCoord3d");
+        glTexCoord3fv = getFunctionAddress(fc, provider, unsupported, 224, "glTexCoord3fv");
+        glTexCoord3sv = getFunctionAddress(fc, provider, unsupported, 225, "glTexCoord3sv");
+        glTexCoord3iv = getFunctionAddress(fc, provider, unsupported, 226, "glTexCoord3iv");
+        glTexCoord3dv = getFunctionAddress(fc, provider, unsupported, 227, "glTexCoord3dv");
+        glTexCoord4f = getFunctionAddress(fc, provider, unsupported, 228, "glTexCoord4f");
+        glTexCoord4s = getFunctionAddress(fc, provider, unsupported, 229, "glTexCoord4s");
+        glTexCoord4i = getFunctionAddress(fc, provider, unsupported, 230, "glTexCoord4i");
+        glTexCoord4d = getFunctionAddress(fc, provider, unsupported, 231, "glTexCoord4d");
+        glTexCoord4fv = getFunctionAddress(fc, provider, unsupported, 232, "glTexCoord4fv");
+        glTexCoord4sv = getFunctionAddress(fc, provider, unsupported, 233, "glTexCoord4sv");
+        glTexCoord4iv = getFunctionAddress(fc, provider, unsupported, 234, "glTexCoord4iv");
+        glTexCoord4dv = getFunctionAddress(fc, provider, unsupported, 235, "glTexCoord4dv");
+        glTexCoordPointer = getFunctionAddress(fc, provider, unsupported, 236, "glTexCoordPointer");
+        glTexEnvi = getFunctionAddress(fc, provider, unsupported, 237, "glTexEnvi");
+        glTexEnviv = getFunctionAddress(fc, provider, unsupported, 238, "glTexEnviv");
+        glTexEnvf = getFunctionAddress(fc, provider, unsupported, 239, "glTexEnvf");
+        glTexEnvfv = getFunctionAddress(fc, provider, unsupported, 240, "glTexEnvfv");
+        glTexGeni = getFunctionAddress(fc, provider, unsupported, 241, "glTexGeni");
+        glTexGeniv = getFunctionAddress(fc, provider, unsupported, 242, "glTexGeniv");
+        glTexGenf = getFunctionAddress(fc, provider, unsupported, 243, "glTexGenf");
+        glTexGenfv = getFunctionAddress(fc, provider, unsupported, 244, "glTexGenfv");
+        glTexGend = getFunctionAddress(fc, provider, unsupported, 245, "glTexGend");
+        glTexGendv = getFunctionAddress(fc, provider, unsupported, 246, "glTexGendv");
+        glTranslatef = getFunctionAddress(fc, provider, unsupported, 247, "glTranslatef");
+        glTranslated = getFunctionAddress(fc, provider, unsupported, 248, "glTranslated");
+        glVertex2f = getFunctionAddress(fc, provider, unsupported, 249, "glVertex2f");
+        glVertex2s = getFunctionAddress(fc, provider, unsupported, 250, "glVertex2s");
+        glVertex2i = getFunctionAddress(fc, provider, unsupported, 251, "glVertex2i");
+        glVertex2d = getFunctionAddress(fc, provider, unsupported, 252, "glVertex2d");
+        glVertex2fv = getFunctionAddress(fc, provider, unsupported, 253, "glVertex2fv");
+        glVertex2sv = getFunctionAddress(fc, provider, unsupported, 254, "glVertex2sv");
+        glVertex2iv = getFunctionAddress(fc, provider, unsupported, 255, "glVertex2iv");
+        glVertex2dv = getFunctionAddress(fc, provider, unsupported, 256, "glVertex2dv");
+        glVertex3f = getFunctionAddress(fc, provider, unsupported, 257, "glVertex3f");
+        glVertex3s = getFunctionAddress(fc, provider, unsupported, 258, "glVertex3s");
+        glVertex3i = getFunctionAddress(fc, provider, unsupported, 259, "glVertex3i");
+        glVertex3d = getFunctionAddress(fc, provider, unsupported, 260, "glVertex3d");
+        glVertex3fv = getFunctionAddress(fc, provider, unsupported, 261, "glVertex3fv");
+        glVertex3sv = getFunctionAddress(fc, provider, unsupported, 262, "glVertex3sv");
+        glVertex3iv = getFunctionAddress(fc, provider, unsupported, 263, "glVertex3iv");
+        glVertex3dv = getFunctionAddress(fc, provider, unsupported, 264, "glVertex3dv");
+        glVertex4f = getFunctionAddress(fc, provider, unsupported, 265, "glVertex4f");
+        glVertex4s = getFunctionAddress(fc, provider, unsupported, 266, "glVertex4s");
+        glVertex4i = getFunctionAddress(fc, provider, unsupported, 267, "glVertex4i");
+        glVertex4d = getFunctionAddress(fc, provider, unsupported, 268, "glVertex4d");
+        glVertex4fv = getFunctionAddress(fc, provider, unsupported, 269, "glVertex4fv");
+        glVertex4sv = getFunctionAddress(fc, provider, unsupported, 270, "glVertex4sv");
+        glVertex4iv = getFunctionAddress(fc, provider, unsupported, 271, "glVertex4iv");
+        glVertex4dv = getFunctionAddress(fc, provider, unsupported, 272, "glVertex4dv");
+        glVertexPointer = getFunctionAddress(fc, provider, unsupported, 273, "glVertexPointer");
+        glEnable = getFunctionAddress(provider, unsupported, 274, "glEnable");
+        glDisable = getFunctionAddress(provider, unsupported, 275, "glDisable");
+        glBindTexture = getFunctionAddress(provider, unsupported, 276, "glBindTexture");
+        glBlendFunc = getFunctionAddress(provider, unsupported, 277, "glBlendFunc");
+        glClear = getFunctionAddress(provider, unsupported, 278, "glClear");
+        glClearColor = getFunctionAddress(provider, unsupported, 279, "glClearColor");
+        glClearDepth = getFunctionAddress(provider, unsupported, 280, "glClearDepth");
+        glClearStencil = getFunctionAddress(provider, unsupported, 281, "glClearStencil");
+        glColorMask = getFunctionAddress(provider, unsupported, 282, "glColorMask");
+        glCullFace = getFunctionAddress(provider, unsupported, 283, "glCullFace");
+        glDepthFunc = getFunctionAddress(provider, unsupported, 284, "glDepthFunc");
+        glDepthMask = getFunctionAddress(provider, unsupported, 285, "glDepthMask");
+        glDepthRange = getFunctionAddress(provider, unsupported, 286, "glDepthRange");
+        glDrawArrays = getFunctionAddress(provider, unsupported, 287, "glDrawArrays");
+        glDrawBuffer = getFunctionAddress(provider, unsupported, 288, "glDrawBuffer");
+        glDrawElements = getFunctionAddress(provider, unsupported, 289, "glDrawElements");
+        glFinish = getFunctionAddress(provider, unsupported, 290, "glFinish");
+        glFlush = getFunctionAddress(provider, unsupported, 291, "glFlush");
+        glFrontFace = getFunctionAddress(provider, unsupported, 292, "glFrontFace");
+        glGenTextures = getFunctionAddress(provider, unsupported, 293, "glGenTextures");
+        glDeleteTextures = getFunctionAddress(provider, unsupported, 294, "glDeleteTextures");
+        glGetBooleanv = getFunctionAddress(provider, unsupported, 295, "glGetBooleanv");
+        glGetFloatv = getFunctionAddress(provider, unsupported, 296, "glGetFloatv");
+        glGetIntegerv = getFunctionAddress(provider, unsupported, 297, "glGetIntegerv");
+        glGetDoublev = getFunctionAddress(provider, unsupported, 298, "glGetDoublev");
+        glGetError = getFunctionAddress(provider, unsupported, 299, "glGetError");
+        glGetPointerv = getFunctionAddress(provider, unsupported, 300, "glGetPointerv");
+        glGetString = getFunctionAddress(provider, unsupported, 301, "glGetString");
+        glGetTexImage = getFunctionAddress(provider, unsupported, 302, "glGetTexImage");
+        glGetTexLevelParameteriv = getFunctionAddress(provider, unsupported, 303, "glGetTexLevelParameteriv");
+        glGetTexLevelParameterfv = getFunctionAddress(provider, unsupported, 304, "glGetTexLevelParameterfv");
+        glGetTexParameteriv = getFunctionAddress(provider, unsupported, 305, "glGetTexParameteriv");
+        glGetTexParameterfv = getFunctionAddress(provider, unsupported, 306, "glGetTexParameterfv");
+        glHint = getFunctionAddress(provider, unsupported, 307, "glHint");
+        glIsEnabled = getFunctionAddress(provider, unsupported, 308, "glIsEnabled");
+        glIsTexture = getFunctionAddress(provider, unsupported, 309, "glIsTexture");
+        glLineWidth = getFunctionAddress(provider, unsupported, 310, "glLineWidth");
+        glLogicOp = getFunctionAddress(provider, unsupported, 311, "glLogicOp");
+        glPixelStorei = getFunctionAddress(provider, unsupported, 312, "glPixelStorei");
+        glPixelStoref = getFunctionAddress(provider, unsupported, 313, "glPixelStoref");
+        glPointSize = getFunctionAddress(provider, unsupported, 314, "glPointSize");
+        glPolygonMode = getFunctionAddress(provider, unsupported, 315, "glPolygonMode");
+        glPolygonOffset = getFunctionAddress(provider, unsupported, 316, "glPolygonOffset");
+        glReadBuffer = getFunctionAddress(provider, unsupported, 317, "glReadBuffer");
+        glReadPixels = getFunctionAddress(provider, unsupported, 318, "glReadPixels");
+        glScissor = getFunctionAddress(provider, unsupported, 319, "glScissor");
+        glStencilFunc = getFunctionAddress(provider, unsupported, 320, "glStencilFunc");
+        glStencilMask = getFunctionAddress(provider, unsupported, 321, "glStencilMask");
+        glStencilOp = getFunctionAddress(provider, unsupported, 322, "glStencilOp");
+        glTexImage1D = getFunctionAddress(provider, unsupported, 323, "glTexImage1D");
+        glTexImage2D = getFunctionAddress(provider, unsupported, 324, "glTexImage2D");
+        glCopyTexImage1D = getFunctionAddress(provider, unsupported, 325, "glCopyTexImage1D");
+        glCopyTexImage2D = getFunctionAddress(provider, unsupported, 326, "glCopyTexImage2D");
+        glCopyTexSubImage1D = getFunctionAddress(provider, unsupported, 327, "glCopyTexSubImage1D");
+        glCopyTexSubImage2D = getFunctionAddress(provider, unsupported, 328, "glCopyTexSubImage2D");
+        glTexParameteri = getFunctionAddress(provider, unsupported, 329, "glTexParameteri");
+        glTexParameteriv = getFunctionAddress(provider, unsupported, 330, "glTexParameteriv");
+        glTexParameterf = getFunctionAddress(provider, unsupported, 331, "glTexParameterf");
+        glTexParameterfv = getFunctionAddress(provider, unsupported, 332, "glTexParameterfv");
+        glTexSubImage1D = getFunctionAddress(provider, unsupported, 333, "glTexSubImage1D");
+        glTexSubImage2D = getFunctionAddress(provider, unsupported, 334, "glTexSubImage2D");
+        glViewport = getFunctionAddress(provider, unsupported, 335, "glViewport");
+        glTexImage3D = getFunctionAddress(provider, unsupported, 336, "glTexImage3D");
+        glTexSubImage3D = getFunctionAddress(provider, unsupported, 337, "glTexSubImage3D");
+        glCopyTexSubImage3D = getFunctionAddress(provider, unsupported, 338, "glCopyTexSubImage3D");
+        glDrawRangeElements = getFunctionAddress(provider, unsupported, 339, "glDrawRangeElements");
+        glClientActiveTexture = getFunctionAddress(fc, provider, unsupported, 340, "glClientActiveTexture");
+        glMultiTexCoord1f = getFunctionAddress(fc, provider, unsupported, 341, "glMultiTexCoord1f");
+        glMultiTexCoord1s = getFunctionAddress(fc, provider, unsupported, 342, "glMultiTexCoord1s");
+        glMultiTexCoord1i = getFunctionAddress(fc, provider, unsupported, 343, "glMultiTexCoord1i");
+        glMultiTexCoord1d = getFunctionAddress(fc, provider, unsupported, 344, "glMultiTexCoord1d");
+        glMultiTexCoord1fv = getFunctionAddress(fc, provider, unsupported, 345, "glMultiTexCoord1fv");
+        glMultiTexCoord1sv = getFunctionAddress(fc, provider, unsupported, 346, "glMultiTexCoord1sv");
+        glMultiTexCoord1iv = getFunctionAddress(fc, provider, unsupported, 347, "glMultiTexCoord1iv");
+        glMultiTexCoord1dv = getFunctionAddress(fc, provider, unsupported, 348, "glMultiTexCoord1dv");
+        glMultiTexCoord2f = getFunctionAddress(fc, provider, unsupported, 349, "glMultiTexCoord2f");
+        glMultiTexCoord2s = getFunctionAddress(fc, provider, unsupported, 350, "glMultiTexCoord2s");
+        glMultiTexCoord2i = getFunctionAddress(fc, provider, unsupported, 351, "glMultiTexCoord2i");
+        glMultiTexCoord2d = getFunctionAddress(fc, provider, unsupported, 352, "glMultiTexCoord2d");
+        glMultiTexCoord2fv = getFunctionAddress(fc, provider, unsupported, 353, "glMultiTexCoord2fv");
+        glMultiTexCoord2sv = getFunctionAddress(fc, provider, unsupported, 354, "glMultiTexCoord2sv");
+        glMultiTexCoord2iv = getFunctionAddress(fc, provider, unsupported, 355, "glMultiTexCoord2iv");
+        glMultiTexCoord2dv = getFunctionAddress(fc, provider, unsupported, 356, "glMultiTexCoord2dv");
+        glMultiTexCoord3f = getFunctionAddress(fc, provider, unsupported, 357, "glMultiTexCoord3f");
+        glMultiTexCoord3s = getFunctionAddress(fc, provider, unsupported, 358, "glMultiTexCoord3s");
+        glMultiTexCoord3i = getFunctionAddress(fc, provider, unsupported, 359, "glMultiTexCoord3i");
+        glMultiTexCoord3d = getFunctionAddress(fc, provider, unsupported, 360, "glMultiTexCoord3d");
+        glMultiTexCoord3fv = getFunctionAddress(fc, provider, unsupported, 361, "glMultiTexCoord3fv");
+        glMultiTexCoord3sv = getFunctionAddress(fc, provider, unsupported, 362, "glMultiTexCoord3sv");
+        glMultiTexCoord3iv = getFunctionAddress(fc, provider, unsupported, 363, "glMultiTexCoord3iv");
+        glMultiTexCoord3dv = getFunctionAddress(fc, provider, unsupported, 364, "glMultiTexCoord3dv");
+        glMultiTexCoord4f = getFunctionAddress(fc, provider, unsupported, 365, "glMultiTexCoord4f");
+        glMultiTexCoord4s = getFunctionAddress(fc, provider, unsupported, 366, "glMultiTexCoord4s");
+        glMultiTexCoord4i = getFunctionAddress(fc, provider, unsupported, 367, "glMultiTexCoord4i");
+        glMultiTexCoord4d = getFunctionAddress(fc, provider, unsupported, 368, "glMultiTexCoord4d");
+        glMultiTexCoord4fv = getFunctionAddress(fc, provider, unsupported, 369, "glMultiTexCoord4fv");
+        glMultiTexCoord4sv = getFunctionAddress(fc, provider, unsupported, 370, "glMultiTexCoord4sv");
+        glMultiTexCoord4iv = getFunctionAddress(fc, provider, unsupported, 371, "glMultiTexCoord4iv");
+        glMultiTexCoord4dv = getFunctionAddress(fc, provider, unsupported, 372, "glMultiTexCoord4dv");
+        glLoadTransposeMatrixf = getFunctionAddress(fc, provider, unsupported, 373, "glLoadTransposeMatrixf");
+        glLoadTransposeMatrixd = getFunctionAddress(fc, provider, unsupported, 374, "glLoadTransposeMatrixd");
+        glMultTransposeMatrixf = getFunctionAddress(fc, provider, unsupported, 375, "glMultTransposeMatrixf");
+        glMultTransposeMatrixd = getFunctionAddress(fc, provider, unsupported, 376, "glMultTransposeMatrixd");
+        glCompressedTexImage3D = getFunctionAddress(provider, unsupported, 377, "glCompressedTexImage3D");
+        glCompressedTexImage2D = getFunctionAddress(provider, unsupported, 378, "glCompressedTexImage2D");
+        glCompressedTexImage1D = getFunctionAddress(provider, unsupported, 379, "glCompressedTexImage1D");
+        glCompressedTexSubImage3D = getFunctionAddress(provider, unsupported, 380, "glCompressedTexSubImage3D");
+        glCompressedTexSubImage2D = getFunctionAddress(provider, unsupported, 381, "glCompressedTexSubImage2D");
+        glCompressedTexSubImage1D = getFunctionAddress(provider, unsupported, 382, "glCompressedTexSubImage1D");
+        glGetCompressedTexImage = getFunctionAddress(provider, unsupported, 383, "glGetCompressedTexImage");
+        glSampleCoverage = getFunctionAddress(provider, unsupported, 384, "glSampleCoverage");
+        glActiveTexture = getFunctionAddress(provider, unsupported, 385, "glActiveTexture");
+        glFogCoordf = getFunctionAddress(fc, provider, unsupported, 386, "glFogCoordf");
+        glFogCoordd = getFunctionAddress(fc, provider, unsupported, 387, "glFogCoordd");
+        glFogCoordfv = getFunctionAddress(fc, provider, unsupported, 388, "glFogCoordfv");
+        glFogCoorddv = getFunctionAddress(fc, provider, unsupported, 389, "glFogCoorddv");
+        glFogCoordPointer = getFunctionAddress(fc, provider, unsupported, 390, "glFogCoordPointer");
+        glSecondaryColor3b = getFunctionAddress(fc, provider, unsupported, 391, "glSecondaryColor3b");
+        glSecondaryColor3s = getFunctionAddress(fc, provider, unsupported, 392, "glSecondaryColor3s");
+        glSecondaryColor3i = getFunctionAddress(fc, provider, unsupported, 393, "glSecondaryColor3i");
+        glSecondaryColor3f = getFunctionAddress(fc, provider, unsupported, 394, "glSecondaryColor3f");
+        glSecondaryColor3d = getFunctionAddress(fc, provider, unsupported, 395, "glSecondaryColor3d");
+        glSecondaryColor3ub = getFunctionAddress(fc, provider, unsupported, 396, "glSecondaryColor3ub");
+        glSecondaryColor3us = getFunctionAddress(fc, provider, unsupported, 397, "glSecondaryColor3us");
+        glSecondaryColor3ui = getFunctionAddress(fc, provider, unsupported, 398, "glSecondaryColor3ui");
+        glSecondaryColor3bv = getFunctionAddress(fc, provider, unsupported, 399, "glSecondaryColor3bv");
+        glSecondaryColor3sv = getFunctionAddress(fc, provider, unsupported, 400, "glSecondaryColor3sv");
+        glSecondaryColor3iv = getFunctionAddress(fc, provider, unsupported, 401, "glSecondaryColor3iv");
+        glSecondaryColor3fv = getFunctionAddress(fc, provider, unsupported, 402, "glSecondaryColor3fv");
+        glSecondaryColor3dv = getFunctionAddress(fc, provider, unsupported, 403, "glSecondaryColor3dv");
+        glSecondaryColor3ubv = getFunctionAddress(fc, provider, unsupported, 404, "glSecondaryColor3ubv");
+        glSecondaryColor3usv = getFunctionAddress(fc, provider, unsupported, 405, "glSecondaryColor3usv");
+        glSecondaryColor3uiv = getFunctionAddress(fc, provider, unsupported, 406, "glSecondaryColor3uiv");
+        glSecondaryColorPointer = getFunctionAddress(fc, provider, unsupported, 407, "glSecondaryColorPointer");
+        glWindowPos2i = getFunctionAddress(fc, provider, unsupported, 408, "glWindowPos2i");
+        glWindowPos2s = getFunctionAddress(fc, provider, unsupported, 409, "glWindowPos2s");
+        glWindowPos2f = getFunctionAddress(fc, provider, unsupported, 410, "glWindowPos2f");
+        glWindowPos2d = getFunctionAddress(fc, provider, unsupported, 411, "glWindowPos2d");
+        glWindowPos2iv = getFunctionAddress(fc, provider, unsupported, 412, "glWindowPos2iv");
+        glWindowPos2sv = getFunctionAddress(fc, provider, unsupported, 413, "glWindowPos2sv");
+        glWindowPos2fv = getFunctionAddress(fc, provider, unsupported, 414, "glWindowPos2fv");
+        glWindowPos2dv = getFunctionAddress(fc, provider, unsupported, 415, "glWindowPos2dv");
+        glWindowPos3i = getFunctionAddress(fc, provider, unsupported, 416, "glWindowPos3i");
+        glWindowPos3s = getFunctionAddress(fc, provider, unsupported, 417, "glWindowPos3s");
+        glWindowPos3f = getFunctionAddress(fc, provider, unsupported, 418, "glWindowPos3f");
+        glWindowPos3d = getFunctionAddress(fc, provider, unsupported, 419, "glWindowPos3d");
+        glWindowPos3iv = getFunctionAddress(fc, provider, unsupported, 420, "glWindowPos3iv");
+        glWindowPos3sv = getFunctionAddress(fc, provider, unsupported, 421, "glWindowPos3sv");
+        glWindowPos3fv = getFunctionAddress(fc, provider, unsupported, 422, "glWindowPos3fv");
+        glWindowPos3dv = getFunctionAddress(fc, provider, unsupported, 423, "glWindowPos3dv");
+        glBlendColor = getFunctionAddress(provider, unsupported, 424, "glBlendColor");
+        glBlendEquation = getFunctionAddress(provider, unsupported, 425, "glBlendEquation");
+        glMultiDrawArrays = getFunctionAddress(provider, unsupported, 426, "glMultiDrawArrays");
+        glMultiDrawElements = getFunctionAddress(provider, unsupported, 427, "glMultiDrawElements");
+        glPointParameterf = getFunctionAddress(provider, unsupported, 428, "glPointParameterf");
+        glPointParameteri = getFunctionAddress(provider, unsupported, 429, "glPointParameteri");
+        glPointParameterfv = getFunctionAddress(provider, unsupported, 430, "glPointParameterfv");
+        glPointParameteriv = getFunctionAddress(provider, unsupported, 431, "glPointParameteriv");
+        glBlendFuncSeparate = getFunctionAddress(provider, unsupported, 432, "glBlendFuncSeparate");
+        glBindBuffer = getFunctionAddress(provider, unsupported, 433, "glBindBuffer");
+        glDeleteBuffers = getFunctionAddress(provider, unsupported, 434, "glDeleteBuffers");
+        glGenBuffers = getFunctionAddress(provider, unsupported, 435, "glGenBuffers");
+        glIsBuffer = getFunctionAddress(provider, unsupported, 436, "glIsBuffer");
+        glBufferData = getFunctionAddress(provider, unsupported, 437, "glBufferData");
+        glBufferSubData = getFunctionAddress(provider, unsupported, 438, "glBufferSubData");
+        glGetBufferSubData = getFunctionAddress(provider, unsupported, 439, "glGetBufferSubData");
+        glMapBuffer = getFunctionAddress(provider, unsupported, 440, "glMapBuffer");
+        glUnmapBuffer = getFunctionAddress(provider, unsupported, 441, "glUnmapBuffer");
+        glGetBufferParameteriv = getFunctionAddress(provider, unsupported, 442, "glGetBufferParameteriv");
+        glGetBufferPointerv = getFunctionAddress(provider, unsupported, 443, "glGetBufferPointerv");
+        glGenQueries = getFunctionAddress(provider, unsupported, 444, "glGenQueries");
+        glDeleteQueries = getFunctionAddress(provider, unsupported, 445, "glDeleteQueries");
+        glIsQuery = getFunctionAddress(provider, unsupported, 446, "glIsQuery");
+        glBeginQuery = getFunctionAddress(provider, unsupported, 447, "glBeginQuery");
+        glEndQuery = getFunctionAddress(provider, unsupported, 448, "glEndQuery");
+        glGetQueryiv = getFunctionAddress(provider, unsupported, 449, "glGetQueryiv");
+        glGetQueryObjectiv = getFunctionAddress(provider, unsupported, 450, "glGetQueryObjectiv");
+        glGetQueryObjectuiv = getFunctionAddress(provider, unsupported, 451, "glGetQueryObjectuiv");
+        glCreateProgram = getFunctionAddress(provider, unsupported, 452, "glCreateProgram");
+        glDeleteProgram = getFunctionAddress(provider, unsupported, 453, "glDeleteProgram");
+        glIsProgram = getFunctionAddress(provider, unsupported, 454, "glIsProgram");
+        glCreateShader = getFunctionAddress(provider, unsupported, 455, "glCreateShader");
+        glDeleteShader = getFunctionAddress(provider, unsupported, 456, "glDeleteShader");
+        glIsShader = getFunctionAddress(provider, unsupported, 457, "glIsShader");
+        glAttachShader = getFunctionAddress(provider, unsupported, 458, "glAttachShader");
+        glDetachShader = getFunctionAddress(provider, unsupported, 459, "glDetachShader");
+        glShaderSource = getFunctionAddress(provider, unsupported, 460, "glShaderSource");
+        glCompileShader = getFunctionAddress(provider, unsupported, 461, "glCompileShader");
+        glLinkProgram = getFunctionAddress(provider, unsupported, 462, "glLinkProgram");
+        glUseProgram = getFunctionAddress(provider, unsupported, 463, "glUseProgram");
+        glValidateProgram = getFunctionAddress(provider, unsupported, 464, "glValidateProgram");
+        glUniform1f = getFunctionAddress(provider, unsupported, 465, "glUniform1f");
+        glUniform2f = getFunctionAddress(provider, unsupported, 466, "glUniform2f");
+        glUniform3f = getFunctionAddress(provider, unsupported, 467, "glUniform3f");
+        glUniform4f = getFunctionAddress(provider, unsupported, 468, "glUniform4f");
+        glUniform1i = getFunctionAddress(provider, unsupported, 469, "glUniform1i");
+        glUniform2i = getFunctionAddress(provider, unsupported, 470, "glUniform2i");
+        glUniform3i = getFunctionAddress(provider, unsupported, 471, "glUniform3i");
+        glUniform4i = getFunctionAddress(provider, unsupported, 472, "glUniform4i");
+        glUniform1fv = getFunctionAddress(provider, unsupported, 473, "glUniform1fv");
+        glUniform2fv = getFunctionAddress(provider, unsupported, 474, "glUniform2fv");
+        glUniform3fv = getFunctionAddress(provider, unsupported, 475, "glUniform3fv");
+        glUniform4fv = getFunctionAddress(provider, unsupported, 476, "glUniform4fv");
+        glUniform1iv = getFunctionAddress(provider, unsupported, 477, "glUniform1iv");
+        glUniform2iv = getFunctionAddress(provider, unsupported, 478, "glUniform2iv");
+        glUniform3iv = getFunctionAddress(provider, unsupported, 479, "glUniform3iv");
+        glUniform4iv = getFunctionAddress(provider, unsupported, 480, "glUniform4iv");
+        glUniformMatrix2fv = getFunctionAddress(provider, unsupported, 481, "glUniformMatrix2fv");
+        glUniformMatrix3fv = getFunctionAddress(provider, unsupported, 482, "glUniformMatrix3fv");
+        glUniformMatrix4fv = getFunctionAddress(provider, unsupported, 483, "glUniformMatrix4fv");
+        glGetShaderiv = getFunctionAddress(provider, unsupported, 484, "glGetShaderiv");
+        glGetProgramiv = getFunctionAddress(provider, unsupported, 485, "glGetProgramiv");
+        glGetShaderInfoLog = getFunctionAddress(provider, unsupported, 486, "glGetShaderInfoLog");
+        glGetProgramInfoLog = getFunctionAddress(provider, unsupported, 487, "glGetProgramInfoLog");
+        glGetAttachedShaders = getFunctionAddress(provider, unsupported, 488, "glGetAttachedShaders");
+        glGetUniformLocation = getFunctionAddress(provider, unsupported, 489, "glGetUniformLocation");
+        glGetActiveUniform = getFunctionAddress(provider, unsupported, 490, "glGetActiveUniform");
+        glGetUniformfv = getFunctionAddress(provider, unsupported, 491, "glGetUniformfv");
+        glGetUniformiv = getFunctionAddress(provider, unsupported, 492, "glGetUniformiv");
+        glGetShaderSource = getFunctionAddress(provider, unsupported, 493, "glGetShaderSource");
+        glVertexAttrib1f = getFunctionAddress(provider, unsupported, 494, "glVertexAttrib1f");
+        glVertexAttrib1s = getFunctionAddress(provider, unsupported, 495, "glVertexAttrib1s");
+        glVertexAttrib1d = getFunctionAddress(provider, unsupported, 496, "glVertexAttrib1d");
+        glVertexAttrib2f = getFunctionAddress(provider, unsupported, 497, "glVertexAttrib2f");
+        glVertexAttrib2s = getFunctionAddress(provider, unsupported, 498, "glVertexAttrib2s");
+        glVertexAttrib2d = getFunctionAddress(provider, unsupported, 499, "glVertexAttrib2d");
+        glVertexAttrib3f = getFunctionAddress(provider, unsupported, 500, "glVertexAttrib3f");
+        glVertexAttrib3s = getFunctionAddress(provider, unsupported, 501, "glVertexAttrib3s");
+        glVertexAttrib3d = getFunctionAddress(provider, unsupported, 502, "glVertexAttrib3d");
+        glVertexAttrib4f = getFunctionAddress(provider, unsupported, 503, "glVertexAttrib4f");
+        glVertexAttrib4s = getFunctionAddress(provider, unsupported, 504, "glVertexAttrib4s");
+        glVertexAttrib4d = getFunctionAddress(provider, unsupported, 505, "glVertexAttrib4d");
+        glVertexAttrib4Nub = getFunctionAddress(provider, unsupported, 506, "glVertexAttrib4Nub");
+        glVertexAttrib1fv = getFunctionAddress(provider, unsupported, 507, "glVertexAttrib1fv");
+        glVertexAttrib1sv = getFunctionAddress(provider, unsupported, 508, "glVertexAttrib1sv");
+        glVertexAttrib1dv = getFunctionAddress(provider, unsupported, 509, "glVertexAttrib1dv");
+        glVertexAttrib2fv = getFunctionAddress(provider, unsupported, 510, "glVertexAttrib2fv");
+        glVertexAttrib2sv = getFunctionAddress(provider, unsupported, 511, "glVertexAttrib2sv");
+        glVertexAttrib2dv = getFunctionAddress(provider, unsupported, 512, "glVertexAttrib2dv");
+        glVertexAttrib3fv = getFunctionAddress(provider, unsupported, 513, "glVertexAttrib3fv");
+        glVertexAttrib3sv = getFunctionAddress(provider, unsupported, 514, "glVertexAttrib3sv");
+        glVertexAttrib3dv = getFunctionAddress(provider, unsupported, 515, "glVertexAttrib3dv");
+        glVertexAttrib4fv = getFunctionAddress(provider, unsupported, 516, "glVertexAttrib4fv");
+        glVertexAttrib4sv = getFunctionAddress(provider, unsupported, 517, "glVertexAttrib4sv");
+        glVertexAttrib4dv = getFunctionAddress(provider, unsupported, 518, "glVertexAttrib4dv");
+        glVertexAttrib4iv = getFunctionAddress(provider, unsupported, 519, "glVertexAttrib4iv");
+        glVertexAttrib4bv = getFunctionAddress(provider, unsupported, 520, "glVertexAttrib4bv");
+        glVertexAttrib4ubv = getFunctionAddress(provider, unsupported, 521, "glVertexAttrib4ubv");
+        glVertexAttrib4usv = getFunctionAddress(provider, unsupported, 522, "glVertexAttrib4usv");
+        glVertexAttrib4uiv = getFunctionAddress(provider, unsupported, 523, "glVertexAttrib4uiv");
+        glVertexAttrib4Nbv = getFunctionAddress(provider, unsupported, 524, "glVertexAttrib4Nbv");
+        glVertexAttrib4Nsv = getFunctionAddress(provider, unsupported, 525, "glVertexAttrib4Nsv");
+        glVertexAttrib4Niv = getFunctionAddress(provider, unsupported, 526, "glVertexAttrib4Niv");
+        glVertexAttrib4Nubv = getFunctionAddress(provider, unsupported, 527, "glVertexAttrib4Nubv");
+        glVertexAttrib4Nusv = getFunctionAddress(provider, unsupported, 528, "glVertexAttrib4Nusv");
+        glVertexAttrib4Nuiv = getFunctionAddress(provider, unsupported, 529, "glVertexAttrib4Nuiv");
+        glVertexAttribPointer = getFunctionAddress(provider, unsupported, 530, "glVertexAttribPointer");
+        glEnableVertexAttribArray = getFunctionAddress(provider, unsupported, 531, "glEnableVertexAttribArray");
+        glDisableVertexAttribArray = getFunctionAddress(provider, unsupported, 532, "glDisableVertexAttribArray");
+        glBindAttribLocation = getFunctionAddress(provider, unsupported, 533, "glBindAttribLocation");
+        glGetActiveAttrib = getFunctionAddress(provider, unsupported, 534, "glGetActiveAttrib");
+        glGetAttribLocation = getFunctionAddress(provider, unsupported, 535, "glGetAttribLocation");
+        glGetVertexAttribiv = getFunctionAddress(provider, unsupported, 536, "glGetVertexAttribiv");
+        glGetVertexAttribfv = getFunctionAddress(provider, unsupported, 537, "glGetVertexAttribfv");
+        glGetVertexAttribdv = getFunctionAddress(provider, unsupported, 538, "glGetVertexAttribdv");
+        glGetVertexAttribPointerv = getFunctionAddress(provider, unsupported, 539, "glGetVertexAttribPointerv");
+        glDrawBuffers = getFunctionAddress(provider, unsupported, 540, "glDrawBuffers");
+        glBlendEquationSeparate = getFunctionAddress(provider, unsupported, 541, "glBlendEquationSeparate");
+        glStencilOpSeparate = getFunctionAddress(provider, unsupported, 542, "glStencilOpSeparate");
+        glStencilFuncSeparate = getFunctionAddress(provider, unsupported, 543, "glStencilFuncSeparate");
+        glStencilMaskSeparate = getFunctionAddress(provider, unsupported, 544, "glStencilMaskSeparate");
+        glUniformMatrix2x3fv = getFunctionAddress(provider, unsupported, 545, "glUniformMatrix2x3fv");
+        glUniformMatrix3x2fv = getFunctionAddress(provider, unsupported, 546, "glUniformMatrix3x2fv");
+        glUniformMatrix2x4fv = getFunctionAddress(provider, unsupported, 547, "glUniformMatrix2x4fv");
+        glUniformMatrix4x2fv = getFunctionAddress(provider, unsupported, 548, "glUniformMatrix4x2fv");
+        glUniformMatrix3x4fv = getFunctionAddress(provider, unsupported, 549, "glUniformMatrix3x4fv");
+        glUniformMatrix4x3fv = getFunctionAddress(provider, unsupported, 550, "glUniformMatrix4x3fv");
+        glGetStringi = getFunctionAddress(provider, unsupported, 551, "glGetStringi");
+        glClearBufferiv = getFunctionAddress(provider, unsupported, 552, "glClearBufferiv");
+        glClearBufferuiv = getFunctionAddress(provider, unsupported, 553, "glClearBufferuiv");
+        glClearBufferfv = getFunctionAddress(provider, unsupported, 554, "glClearBufferfv");
+        glClearBufferfi = getFunctionAddress(provider, unsupported, 555, "glClearBufferfi");
+        glVertexAttribI1i = getFunctionAddress(provider, unsupported, 556, "glVertexAttribI1i");
+        glVertexAttribI2i = getFunctionAddress(provider, unsupported, 557, "glVertexAttribI2i");
+        glVertexAttribI3i = getFunctionAddress(provider, unsupported, 558, "glVertexAttribI3i");
+        glVertexAttribI4i = getFunctionAddress(provider, unsupported, 559, "glVertexAttribI4i");
+        glVertexAttribI1ui = getFunctionAddress(provider, unsupported, 560, "glVertexAttribI1ui");
+        glVertexAttribI2ui = getFunctionAddress(provider, unsupported, 561, "glVertexAttribI2ui");
+        glVertexAttribI3ui = getFunctionAddress(provider, unsupported, 562, "glVertexAttribI3ui");
+        glVertexAttribI4ui = getFunctionAddress(provider, unsupported, 563, "glVertexAttribI4ui");
+        glVertexAttribI1iv = getFunctionAddress(provider, unsupported, 564, "glVertexAttribI1iv");
+        glVertexAttribI2iv = getFunctionAddress(provider, unsupported, 565, "glVertexAttribI2iv");
+        glVertexAttribI3iv = getFunctionAddress(provider, unsupported, 566, "glVertexAttribI3iv");
+        glVertexAttribI4iv = getFunctionAddress(provider, unsupported, 567, "glVertexAttribI4iv");
+        glVertexAttribI1uiv = getFunctionAddress(provider, unsupported, 568, "glVertexAttribI1uiv");
+        glVertexAttribI2uiv = getFunctionAddress(provider, unsupported, 569, "glVertexAttribI2uiv");
+        glVertexAttribI3uiv = getFunctionAddress(provider, unsupported, 570, "glVertexAttribI3uiv");
+        glVertexAttribI4uiv = getFunctionAddress(provider, unsupported, 571, "glVertexAttribI4uiv");
+        glVertexAttribI4bv = getFunctionAddress(provider, unsupported, 572, "glVertexAttribI4bv");
+        glVertexAttribI4sv = getFunctionAddress(provider, unsupported, 573, "glVertexAttribI4sv");
+        glVertexAttribI4ubv = getFunctionAddress(provider, unsupported, 574, "glVertexAttribI4ubv");
+        glVertexAttribI4usv = getFunctionAddress(provider, unsupported, 575, "glVertexAttribI4usv");
+        glVertexAttribIPointer = getFunctionAddress(provider, unsupported, 576, "glVertexAttribIPointer");
+        glGetVertexAttribIiv = getFunctionAddress(provider, unsupported, 577, "glGetVertexAttribIiv");
+        glGetVertexAttribIuiv = getFunctionAddress(provider, unsupported, 578, "glGetVertexAttribIuiv");
+        glUniform1ui = getFunctionAddress(provider, unsupported, 579, "glUniform1ui");
+        glUniform2ui = getFunctionAddress(provider, unsupported, 580, "glUniform2ui");
+        glUniform3ui = getFunctionAddress(provider, unsupported, 581, "glUniform3ui");
+        glUniform4ui = getFunctionAddress(provider, unsupported, 582, "glUniform4ui");
+        glUniform1uiv = getFunctionAddress(provider, unsupported, 583, "glUniform1uiv");
+        glUniform2uiv = getFunctionAddress(provider, unsupported, 584, "glUniform2uiv");
+        glUniform3uiv = getFunctionAddress(provider, unsupported, 585, "glUniform3uiv");
+        glUniform4uiv = getFunctionAddress(provider, unsupported, 586, "glUniform4uiv");
+        glGetUniformuiv = getFunctionAddress(provider, unsupported, 587, "glGetUniformuiv");
+        glBindFragDataLocation = getFunctionAddress(provider, unsupported, 588, "glBindFragDataLocation");
+        glGetFragDataLocation = getFunctionAddress(provider, unsupported, 589, "glGetFragDataLocation");
+        glBeginConditionalRender = getFunctionAddress(provider, unsupported, 590, "glBeginConditionalRender");
+        glEndConditionalRender = getFunctionAddress(provider, unsupported, 591, "glEndConditionalRender");
+        glMapBufferRange = getFunctionAddress(provider, unsupported, 592, "glMapBufferRange");
+        glFlushMappedBufferRange = getFunctionAddress(provider, unsupported, 593, "glFlushMappedBufferRange");
+        glClampColor = getFunctionAddress(provider, unsupported, 594, "glClampColor");
+        glIsRenderbuffer = getFunctionAddress(provider, unsupported, 595, "glIsRenderbuffer");
+        glBindRenderbuffer = getFunctionAddress(provider, unsupported, 596, "glBindRenderbuffer");
+        glDeleteRenderbuffers = getFunctionAddress(provider, unsupported, 597, "glDeleteRenderbuffers");
+        glGenRenderbuffers = getFunctionAddress(provider, unsupported, 598, "glGenRenderbuffers");
+        glRenderbufferStorage = getFunctionAddress(provider, unsupported, 599, "glRenderbufferStorage");
+        glRenderbufferStorageMultisample = getFunctionAddress(provider, unsupported, 600, "glRenderbufferStorageMultisample");
+        glGetRenderbufferParameteriv = getFunctionAddress(provider, unsupported, 601, "glGetRenderbufferParameteriv");
+        glIsFramebuffer = getFunctionAddress(provider, unsupported, 602, "glIsFramebuffer");
+        glBindFramebuffer = getFunctionAddress(provider, unsupported, 603, "glBindFramebuffer");
+        glDeleteFramebuffers = getFunctionAddress(provider, unsupported, 604, "glDeleteFramebuffers");
+        glGenFramebuffers = getFunctionAddress(provider, unsupported, 605, "glGenFramebuffers");
+        glCheckFramebufferStatus = getFunctionAddress(provider, unsupported, 606, "glCheckFramebufferStatus");
+        glFramebufferTexture1D = getFunctionAddress(provider, unsupported, 607, "glFramebufferTexture1D");
+        glFramebufferTexture2D = getFunctionAddress(provider, unsupported, 608, "glFramebufferTexture2D");
+        glFramebufferTexture3D = getFunctionAddress(provider, unsupported, 609, "glFramebufferTexture3D");
+        glFramebufferTextureLayer = getFunctionAddress(provider, unsupported, 610, "glFramebufferTextureLayer");
+        glFramebufferRenderbuffer = getFunctionAddress(provider, unsupported, 611, "glFramebufferRenderbuffer");
+        glGetFramebufferAttachmentParameteriv = getFunctionAddress(provider, unsupported, 612, "glGetFramebufferAttachmentParameteriv");
+        glBlitFramebuffer = getFunctionAddress(provider, unsupported, 613, "glBlitFramebuffer");
+        glGenerateMipmap = getFunctionAddress(provider, unsupported, 614, "glGenerateMipmap");
+        glTexParameterIiv = getFunctionAddress(provider, unsupported, 615, "glTexParameterIiv");
+        glTexParameterIuiv = getFunctionAddress(provider, unsupported, 616, "glTexParameterIuiv");
+        glGetTexParameterIiv = getFunctionAddress(provider, unsupported, 617, "glGetTexParameterIiv");
+        glGetTexParameterIuiv = getFunctionAddress(provider, unsupported, 618, "glGetTexParameterIuiv");
+        glColorMaski = getFunctionAddress(provider, unsupported, 619, "glColorMaski");
+        glGetBooleani_v = getFunctionAddress(provider, unsupported, 620, "glGetBooleani_v");
+        glGetIntegeri_v = getFunctionAddress(provider, unsupported, 621, "glGetIntegeri_v");
+        glEnablei = getFunctionAddress(provider, unsupported, 622, "glEnablei");
+        glDisablei = getFunctionAddress(provider, unsupported, 623, "glDisablei");
+        glIsEnabledi = getFunctionAddress(provider, unsupported, 624, "glIsEnabledi");
+        glBindBufferRange = getFunctionAddress(provider, unsupported, 625, "glBindBufferRange");
+        glBindBufferBase = getFunctionAddress(provider, unsupported, 626, "glBindBufferBase");
+        glBeginTransformFeedback = getFunctionAddress(provider, unsupported, 627, "glBeginTransformFeedback");
+        glEndTransformFeedback = getFunctionAddress(provider, unsupported, 628, "glEndTransformFeedback");
+        glTransformFeedbackVaryings = getFunctionAddress(provider, unsupported, 629, "glTransformFeedbackVaryings");
+        glGetTransformFeedbackVarying = getFunctionAddress(provider, unsupported, 630, "glGetTransformFeedbackVarying");
+        glBindVertexArray = getFunctionAddress(provider, unsupported, 631, "glBindVertexArray");
+        glDeleteVertexArrays = getFunctionAddress(provider, unsupported, 632, "glDeleteVertexArrays");
+        glGenVertexArrays = getFunctionAddress(provider, unsupported, 633, "glGenVertexArrays");
+        glIsVertexArray = getFunctionAddress(provider, unsupported, 634, "glIsVertexArray");
+        glDrawArraysInstanced = getFunctionAddress(provider, unsupported, 635, "glDrawArraysInstanced");
+        glDrawElementsInstanced = getFunctionAddress(provider, unsupported, 636, "glDrawElementsInstanced");
+        glCopyBufferSubData = getFunctionAddress(provider, unsupported, 637, "glCopyBufferSubData");
+        glPrimitiveRestartIndex = getFunctionAddress(provider, unsupported, 638, "glPrimitiveRestartIndex");
+        glTexBuffer = getFunctionAddress(provider, unsupported, 639, "glTexBuffer");
+        glGetUniformIndices = getFunctionAddress(provider, unsupported, 640, "glGetUniformIndices");
+        glGetActiveUniformsiv = getFunctionAddress(provider, unsupported, 641, "glGetActiveUniformsiv");
+        glGetActiveUniformName = getFunctionAddress(provider, unsupported, 642, "glGetActiveUniformName");
+        glGetUniformBlockIndex = getFunctionAddress(provider, unsupported, 643, "glGetUniformBlockIndex");
+        glGetActiveUniformBlockiv = getFunctionAddress(provider, unsupported, 644, "glGetActiveUniformBlockiv");
+        glGetActiveUniformBlockName = getFunctionAddress(provider, unsupported, 645, "glGetActiveUniformBlockName");
+        glUniformBlockBinding = getFunctionAddress(provider, unsupported, 646, "glUniformBlockBinding");
+        glGetBufferParameteri64v = getFunctionAddress(provider, unsupported, 647, "glGetBufferParameteri64v");
+        glDrawElementsBaseVertex = getFunctionAddress(provider, unsupported, 648, "glDrawElementsBaseVertex");
+        glDrawRangeElementsBaseVertex = getFunctionAddress(provider, unsupported, 649, "glDrawRangeElementsBaseVertex");
+        glDrawElementsInstancedBaseVertex = getFunctionAddress(provider, unsupported, 650, "glDrawElementsInstancedBaseVertex");
+        glMultiDrawElementsBaseVertex = getFunctionAddress(provider, unsupported, 651, "glMultiDrawElementsBaseVertex");
+        glProvokingVertex = getFunctionAddress(provider, unsupported, 652, "glProvokingVertex");
+        glTexImage2DMultisample = getFunctionAddress(provider, unsupported, 653, "glTexImage2DMultisample");
+        glTexImage3DMultisample = getFunctionAddress(provider, unsupported, 654, "glTexImage3DMultisample");
+        glGetMultisamplefv = getFunctionAddress(provider, unsupported, 655, "glGetMultisamplefv");
+        glSampleMaski = getFunctionAddress(provider, unsupported, 656, "glSampleMaski");
+        glFramebufferTexture = getFunctionAddress(provider, unsupported, 657, "glFramebufferTexture");
+        glFenceSync = getFunctionAddress(provider, unsupported, 658, "glFenceSync");
+        glIsSync = getFunctionAddress(provider, unsupported, 659, "glIsSync");
+        glDeleteSync = getFunctionAddress(provider, unsupported, 660, "glDeleteSync");
+        glClientWaitSync = getFunctionAddress(provider, unsupported, 661, "glClientWaitSync");
+        glWaitSync = getFunctionAddress(provider, unsupported, 662, "glWaitSync");
+        glGetInteger64v = getFunctionAddress(provider, unsupported, 663, "glGetInteger64v");
+        glGetInteger64i_v = getFunctionAddress(provider, unsupported, 664, "glGetInteger64i_v");
+        glGetSynciv = getFunctionAddress(provider, unsupported, 665, "glGetSynciv");
+        glVertexP2ui = getFunctionAddress(fc, provider, unsupported, 666, "glVertexP2ui");
+        glVertexP3ui = getFunctionAddress(fc, provider, unsupported, 667, "glVertexP3ui");
+        glVertexP4ui = getFunctionAddress(fc, provider, unsupported, 668, "glVertexP4ui");
+        glVertexP2uiv = getFunctionAddress(fc, provider, unsupported, 669, "glVertexP2uiv");
+        glVertexP3uiv = getFunctionAddress(fc, provider, unsupported, 670, "glVertexP3uiv");
+        glVertexP4uiv = getFunctionAddress(fc, provider, unsupported, 671, "glVertexP4uiv");
+        glTexCoordP1ui = getFunctionAddress(fc, provider, unsupported, 672, "glTexCoordP1ui");
+        glTexCoordP2ui = getFunctionAddress(fc, provider, unsupported, 673, "glTexCoordP2ui");
+        glTexCoordP3ui = getFunctionAddress(fc, provider, unsupported, 674, "glTexCoordP3ui");
+        glTexCoordP4ui = getFunctionAddress(fc, provider, unsupported, 675, "glTexCoordP4ui");
+        glTexCoordP1uiv = getFunctionAddress(fc, provider, unsupported, 676, "glTexCoordP1uiv");
+        glTexCoordP2uiv = getFunctionAddress(fc, provider, unsupported, 677, "glTexCoordP2uiv");
+        glTexCoordP3uiv = getFunctionAddress(fc, provider, unsupported, 678, "glTexCoordP3uiv");
+        glTexCoordP4uiv = getFunctionAddress(fc, provider, unsupported, 679, "glTexCoordP4uiv");
+        glMultiTexCoordP1ui = getFunctionAddress(fc, provider, unsupported, 680, "glMultiTexCoordP1ui");
+        glMultiTexCoordP2ui = getFunctionAddress(fc, provider, unsupported, 681, "glMultiTexCoordP2ui");
+        glMultiTexCoordP3ui = getFunctionAddress(fc, provider, unsupported, 682, "glMultiTexCoordP3ui");
+        glMultiTexCoordP4ui = getFunctionAddress(fc, provider, unsupported, 683, "glMultiTexCoordP4ui");
+        glMultiTexCoordP1uiv = getFunctionAddress(fc, provider, unsupported, 684, "glMultiTexCoordP1uiv");
+        glMultiTexCoordP2uiv = getFunctionAddress(fc, provider, unsupported, 685, "glMultiTexCoordP2uiv");
+        glMultiTexCoordP3uiv = getFunctionAddress(fc, provider, unsupported, 686, "glMultiTexCoordP3uiv");
+        glMultiTexCoordP4uiv = getFunctionAddress(fc, provider, unsupported, 687, "glMultiTexCoordP4uiv");
+        glNormalP3ui = getFunctionAddress(fc, provider, unsupported, 688, "glNormalP3ui");
+        glNormalP3uiv = getFunctionAddress(fc, provider, unsupported, 689, "glNormalP3uiv");
+        glColorP3ui = getFunctionAddress(fc, provider, unsupported, 690, "glColorP3ui");
+        glColorP4ui = getFunctionAddress(fc, provider, unsupported, 691, "glColorP4ui");
+        glColorP3uiv = getFunctionAddress(fc, provider, unsupported, 692, "glColorP3uiv");
+        glColorP4uiv = getFunctionAddress(fc, provider, unsupported, 693, "glColorP4uiv");
+        glSecondaryColorP3ui = getFunctionAddress(fc, provider, unsupported, 694, "glSecondaryColorP3ui");
+        glSecondaryColorP3uiv = getFunctionAddress(fc, provider, unsupported, 695, "glSecondaryColorP3uiv");
+        glBindFragDataLocationIndexed = getFunctionAddress(provider, unsupported, 696, "glBindFragDataLocationIndexed");
+        glGetFragDataIndex = getFunctionAddress(provider, unsupported, 697, "glGetFragDataIndex");
+        glGenSamplers = getFunctionAddress(provider, unsupported, 698, "glGenSamplers");
+        glDeleteSamplers = getFunctionAddress(provider, unsupported, 699, "glDeleteSamplers");
+        glIsSampler = getFunctionAddress(provider, unsupported, 700, "glIsSampler");
+        glBindSampler = getFunctionAddress(provider, unsupported, 701, "glBindSampler");
+        glSamplerParameteri = getFunctionAddress(provider, unsupported, 702, "glSamplerParameteri");
+        glSamplerParameterf = getFunctionAddress(provider, unsupported, 703, "glSamplerParameterf");
+        glSamplerParameteriv = getFunctionAddress(provider, unsupported, 704, "glSamplerParameteriv");
+        glSamplerParameterfv = getFunctionAddress(provider, unsupported, 705, "glSamplerParameterfv");
+        glSamplerParameterIiv = getFunctionAddress(provider, unsupported, 706, "glSamplerParameterIiv");
+        glSamplerParameterIuiv = getFunctionAddress(provider, unsupported, 707, "glSamplerParameterIuiv");
+        glGetSamplerParameteriv = getFunctionAddress(provider, unsupported, 708, "glGetSamplerParameteriv");
+        glGetSamplerParameterfv = getFunctionAddress(provider, unsupported, 709, "glGetSamplerParameterfv");
+        glGetSamplerParameterIiv = getFunctionAddress(provider, unsupported, 710, "glGetSamplerParameterIiv");
+        glGetSamplerParameterIuiv = getFunctionAddress(provider, unsupported, 711, "glGetSamplerParameterIuiv");
+        glQueryCounter = getFunctionAddress(provider, unsupported, 712, "glQueryCounter");
+        glGetQueryObjecti64v = getFunctionAddress(provider, unsupported, 713, "glGetQueryObjecti64v");
+        glGetQueryObjectui64v = getFunctionAddress(provider, unsupported, 714, "glGetQueryObjectui64v");
+        glVertexAttribDivisor = getFunctionAddress(provider, unsupported, 715, "glVertexAttribDivisor");
+        glVertexAttribP1ui = getFunctionAddress(provider, unsupported, 716, "glVertexAttribP1ui");
+        glVertexAttribP2ui = getFunctionAddress(provider, unsupported, 717, "glVertexAttribP2ui");
+        glVertexAttribP3ui = getFunctionAddress(provider, unsupported, 718, "glVertexAttribP3ui");
+        glVertexAttribP4ui = getFunctionAddress(provider, unsupported, 719, "glVertexAttribP4ui");
+        glVertexAttribP1uiv = getFunctionAddress(provider, unsupported, 720, "glVertexAttribP1uiv");
+        glVertexAttribP2uiv = getFunctionAddress(provider, unsupported, 721, "glVertexAttribP2uiv");
+        glVertexAttribP3uiv = getFunctionAddress(provider, unsupported, 722, "glVertexAttribP3uiv");
+        glVertexAttribP4uiv = getFunctionAddress(provider, unsupported, 723, "glVertexAttribP4uiv");
+        glBlendEquationi = getFunctionAddress(provider, unsupported, 724, "glBlendEquationi");
+        glBlendEquationSeparatei = getFunctionAddress(provider, unsupported, 725, "glBlendEquationSeparatei");
+        glBlendFunci = getFunctionAddress(provider, unsupported, 726, "glBlendFunci");
+        glBlendFuncSeparatei = getFunctionAddress(provider, unsupported, 727, "glBlendFuncSeparatei");
+        glDrawArraysIndirect = getFunctionAddress(provider, unsupported, 728, "glDrawArraysIndirect");
+        glDrawElementsIndirect = getFunctionAddress(provider, unsupported, 729, "glDrawElementsIndirect");
+        glUniform1d = getFunctionAddress(provider, unsupported, 730, "glUniform1d");
+        glUniform2d = getFunctionAddress(provider, unsupported, 731, "glUniform2d");
+        glUniform3d = getFunctionAddress(provider, unsupported, 732, "glUniform3d");
+        glUniform4d = getFunctionAddress(provider, unsupported, 733, "glUniform4d");
+        glUniform1dv = getFunctionAddress(provider, unsupported, 734, "glUniform1dv");
+        glUniform2dv = getFunctionAddress(provider, unsupported, 735, "glUniform2dv");
+        glUniform3dv = getFunctionAddress(provider, unsupported, 736, "glUniform3dv");
+        glUniform4dv = getFunctionAddress(provider, unsupported, 737, "glUniform4dv");
+        glUniformMatrix2dv = getFunctionAddress(provider, unsupported, 738, "glUniformMatrix2dv");
+        glUniformMatrix3dv = getFunctionAddress(provider, unsupported, 739, "glUniformMatrix3dv");
+        glUniformMatrix4dv = getFunctionAddress(provider, unsupported, 740, "glUniformMatrix4dv");
+        glUniformMatrix2x3dv = getFunctionAddress(provider, unsupported, 741, "glUniformMatrix2x3dv");
+        glUniformMatrix2x4dv = getFunctionAddress(provider, unsupported, 742, "glUniformMatrix2x4dv");
+        glUniformMatrix3x2dv = getFunctionAddress(provider, unsupported, 743, "glUniformMatrix3x2dv");
+        glUniformMatrix3x4dv = getFunctionAddress(provider, unsupported, 744, "glUniformMatrix3x4dv");
+        glUniformMatrix4x2dv = getFunctionAddress(provider, unsupported, 745, "glUniformMatrix4x2dv");
+        glUniformMatrix4x3dv = getFunctionAddress(provider, unsupported, 746, "glUniformMatrix4x3dv");
+        glGetUniformdv = getFunctionAddress(provider, unsupported, 747, "glGetUniformdv");
+        glMinSampleShading = getFunctionAddress(provider, unsupported, 748, "glMinSampleShading");
+        glGetSubroutineUniformLocation = getFunctionAddress(provider, unsupported, 749, "glGetSubroutineUniformLocation");
+        glGetSubroutineIndex = getFunctionAddress(provider, unsupported, 750, "glGetSubroutineIndex");
+        glGetActiveSubroutineUniformiv = getFunctionAddress(provider, unsupported, 751, "glGetActiveSubroutineUniformiv");
+        glGetActiveSubroutineUniformName = getFunctionAddress(provider, unsupported, 752, "glGetActiveSubroutineUniformName");
+        glGetActiveSubroutineName = getFunctionAddress(provider, unsupported, 753, "glGetActiveSubroutineName");
+        glUniformSubroutinesuiv = getFunctionAddress(provider, unsupported, 754, "glUniformSubroutinesuiv");
+        glGetUniformSubroutineuiv = getFunctionAddress(provider, unsupported, 755, "glGetUniformSubroutineuiv");
+        glGetProgramStageiv = getFunctionAddress(provider, unsupported, 756, "glGetProgramStageiv");
+        glPatchParameteri = getFunctionAddress(provider, unsupported, 757, "glPatchParameteri");
+        glPatchParameterfv = getFunctionAddress(provider, unsupported, 758, "glPatchParameterfv");
+        glBindTransformFeedback = getFunctionAddress(provider, unsupported, 759, "glBindTransformFeedback");
+        glDeleteTransformFeedbacks = getFunctionAddress(provider, unsupported, 760, "glDeleteTransformFeedbacks");
+        glGenTransformFeedbacks = getFunctionAddress(provider, unsupported, 761, "glGenTransformFeedbacks");
+        glIsTransformFeedback = getFunctionAddress(provider, unsupported, 762, "glIsTransformFeedback");
+        glPauseTransformFeedback = getFunctionAddress(provider, unsupported, 763, "glPauseTransformFeedback");
+        glResumeTransformFeedback = getFunctionAddress(provider, unsupported, 764, "glResumeTransformFeedback");
+        glDrawTransformFeedback = getFunctionAddress(provider, unsupported, 765, "glDrawTransformFeedback");
+        glDrawTransformFeedbackStream = getFunctionAddress(provider, unsupported, 766, "glDrawTransformFeedbackStream");
+        glBeginQueryIndexed = getFunctionAddress(provider, unsupported, 767, "glBeginQueryIndexed");
+        glEndQueryIndexed = getFunctionAddress(provider, unsupported, 768, "glEndQueryIndexed");
+        glGetQueryIndexediv = getFunctionAddress(provider, unsupported, 769, "glGetQueryIndexediv");
+        glReleaseShaderCompiler = getFunctionAddress(provider, unsupported, 770, "glReleaseShaderCompiler");
+        glShaderBinary = getFunctionAddress(provider, unsupported, 771, "glShaderBinary");
+        glGetShaderPrecisionFormat = getFunctionAddress(provider, unsupported, 772, "glGetShaderPrecisionFormat");
+        glDepthRangef = getFunctionAddress(provider, unsupported, 773, "glDepthRangef");
+        glClearDepthf = getFunctionAddress(provider, unsupported, 774, "glClearDepthf");
+        glGetProgramBinary = getFunctionAddress(provider, unsupported, 775, "glGetProgramBinary");
+        glProgramBinary = getFunctionAddress(provider, unsupported, 776, "glProgramBinary");
+        glProgramParameteri = getFunctionAddress(provider, unsupported, 777, "glProgramParameteri");
+        glUseProgramStages = getFunctionAddress(provider, unsupported, 778, "glUseProgramStages");
+        glActiveShaderProgram = getFunctionAddress(provider, unsupported, 779, "glActiveShaderProgram");
+        glCreateShaderProgramv = getFunctionAddress(provider, unsupported, 780, "glCreateShaderProgramv");
+        glBindProgramPipeline = getFunctionAddress(provider, unsupported, 781, "glBindProgramPipeline");
+        glDeleteProgramPipelines = getFunctionAddress(provider, unsupported, 782, "glDeleteProgramPipelines");
+        glGenProgramPipelines = getFunctionAddress(provider, unsupported, 783, "glGenProgramPipelines");
+        glIsProgramPipeline = getFunctionAddress(provider, unsupported, 784, "glIsProgramPipeline");
+        glGetProgramPipelineiv = getFunctionAddress(provider, unsupported, 785, "glGetProgramPipelineiv");
+        glProgramUniform1i = getFunctionAddress(provider, unsupported, 786, "glProgramUniform1i");
+        glProgramUniform2i = getFunctionAddress(provider, unsupported, 787, "glProgramUniform2i");
+        glProgramUniform3i = getFunctionAddress(provider, unsupported, 788, "glProgramUniform3i");
+        glProgramUniform4i = getFunctionAddress(provider, unsupported, 789, "glProgramUniform4i");
+        glProgramUniform1ui = getFunctionAddress(provider, unsupported, 790, "glProgramUniform1ui");
+        glProgramUniform2ui = getFunctionAddress(provider, unsupported, 791, "glProgramUniform2ui");
+        glProgramUniform3ui = getFunctionAddress(provider, unsupported, 792, "glProgramUniform3ui");
+        glProgramUniform4ui = getFunctionAddress(provider, unsupported, 793, "glProgramUniform4ui");
+        glProgramUniform1f = getFunctionAddress(provider, unsupported, 794, "glProgramUniform1f");
+        glProgramUniform2f = getFunctionAddress(provider, unsupported, 795, "glProgramUniform2f");
+        glProgramUniform3f = getFunctionAddress(provider, unsupported, 796, "glProgramUniform3f");
+        glProgramUniform4f = getFunctionAddress(provider, unsupported, 797, "glProgramUniform4f");
+        glProgramUniform1d = getFunctionAddress(provider, unsupported, 798, "glProgramUniform1d");
+        glProgramUniform2d = getFunctionAddress(provider, unsupported, 799, "glProgramUniform2d");
+        glProgramUniform3d = getFunctionAddress(provider, unsupported, 800, "glProgramUniform3d");
+        glProgramUniform4d = getFunctionAddress(provider, unsupported, 801, "glProgramUniform4d");
+        glProgramUniform1iv = getFunctionAddress(provider, unsupported, 802, "glProgramUniform1iv");
+        glProgramUniform2iv = getFunctionAddress(provider, unsupported, 803, "glProgramUniform2iv");
+        glProgramUniform3iv = getFunctionAddress(provider, unsupported, 804, "glProgramUniform3iv");
+        glProgramUniform4iv = getFunctionAddress(provider, unsupported, 805, "glProgramUniform4iv");
+        glProgramUniform1uiv = getFunctionAddress(provider, unsupported, 806, "glProgramUniform1uiv");
+        glProgramUniform2uiv = getFunctionAddress(provider, unsupported, 807, "glProgramUniform2uiv");
+        glProgramUniform3uiv = getFunctionAddress(provider, unsupported, 808, "glProgramUniform3uiv");
+        glProgramUniform4uiv = getFunctionAddress(provider, unsupported, 809, "glProgramUniform4uiv");
+        glProgramUniform1fv = getFunctionAddress(provider, unsupported, 810, "glProgramUniform1fv");
+        glProgramUniform2fv = getFunctionAddress(provider, unsupported, 811, "glProgramUniform2fv");
+        glProgramUniform3fv = getFunctionAddress(provider, unsupported, 812, "glProgramUniform3fv");
+        glProgramUniform4fv = getFunctionAddress(provider, unsupported, 813, "glProgramUniform4fv");
+        glProgramUniform1dv = getFunctionAddress(provider, unsupported, 814, "glProgramUniform1dv");
+        glProgramUniform2dv = getFunctionAddress(provider, unsupported, 815, "glProgramUniform2dv");
+        glProgramUniform3dv = getFunctionAddress(provider, unsupported, 816, "glProgramUniform3dv");
+        glProgramUniform4dv = getFunctionAddress(provider, unsupported, 817, "glProgramUniform4dv");
+        glProgramUniformMatrix2fv = getFunctionAddress(provider, unsupported, 818, "glProgramUniformMatrix2fv");
+        glProgramUniformMatrix3fv = getFunctionAddress(provider, unsupported, 819, "glProgramUniformMatrix3fv");
+        glProgramUniformMatrix4fv = getFunctionAddress(provider, unsupported, 820, "glProgramUniformMatrix4fv");
+        glProgramUniformMatrix2dv = getFunctionAddress(provider, unsupported, 821, "glProgramUniformMatrix2dv");
+        glProgramUniformMatrix3dv = getFunctionAddress(provider, unsupported, 822, "glProgramUniformMatrix3dv");
+        glProgramUniformMatrix4dv = getFunctionAddress(provider, unsupported, 823, "glProgramUniformMatrix4dv");
+        glProgramUniformMatrix2x3fv = getFunctionAddress(provider, unsupported, 824, "glProgramUniformMatrix2x3fv");
+        glProgramUniformMatrix3x2fv = getFunctionAddress(provider, unsupported, 825, "glProgramUniformMatrix3x2fv");
+        glProgramUniformMatrix2x4fv = getFunctionAddress(provider, unsupported, 826, "glProgramUniformMatrix2x4fv");
+        glProgramUniformMatrix4x2fv = getFunctionAddress(provider, unsupported, 827, "glProgramUniformMatrix4x2fv");
+        glProgramUniformMatrix3x4fv = getFunctionAddress(provider, unsupported, 828, "glProgramUniformMatrix3x4fv");
+        glProgramUniformMatrix4x3fv = getFunctionAddress(provider, unsupported, 829, "glProgramUniformMatrix4x3fv");
+        glProgramUniformMatrix2x3dv = getFunctionAddress(provider, unsupported, 830, "glProgramUniformMatrix2x3dv");
+        glProgramUniformMatrix3x2dv = getFunctionAddress(provider, unsupported, 831, "glProgramUniformMatrix3x2dv");
+        glProgramUniformMatrix2x4dv = getFunctionAddress(provider, unsupported, 832, "glProgramUniformMatrix2x4dv");
+        glProgramUniformMatrix4x2dv = getFunctionAddress(provider, unsupported, 833, "glProgramUniformMatrix4x2dv");
+        glProgramUniformMatrix3x4dv = getFunctionAddress(provider, unsupported, 834, "glProgramUniformMatrix3x4dv");
+        glProgramUniformMatrix4x3dv = getFunctionAddress(provider, unsupported, 835, "glProgramUniformMatrix4x3dv");
+        glValidateProgramPipeline = getFunctionAddress(provider, unsupported, 836, "glValidateProgramPipeline");
+        glGetProgramPipelineInfoLog = getFunctionAddress(provider, unsupported, 837, "glGetProgramPipelineInfoLog");
+        glVertexAttribL1d = getFunctionAddress(provider, unsupported, 838, "glVertexAttribL1d");
+        glVertexAttribL2d = getFunctionAddress(provider, unsupported, 839, "glVertexAttribL2d");
+        glVertexAttribL3d = getFunctionAddress(provider, unsupported, 840, "glVertexAttribL3d");
+        glVertexAttribL4d = getFunctionAddress(provider, unsupported, 841, "glVertexAttribL4d");
+        glVertexAttribL1dv = getFunctionAddress(provider, unsupported, 842, "glVertexAttribL1dv");
+        glVertexAttribL2dv = getFunctionAddress(provider, unsupported, 843, "glVertexAttribL2dv");
+        glVertexAttribL3dv = getFunctionAddress(provider, unsupported, 844, "glVertexAttribL3dv");
+        glVertexAttribL4dv = getFunctionAddress(provider, unsupported, 845, "glVertexAttribL4dv");
+        glVertexAttribLPointer = getFunctionAddress(provider, unsupported, 846, "glVertexAttribLPointer");
+        glGetVertexAttribLdv = getFunctionAddress(provider, unsupported, 847, "glGetVertexAttribLdv");
+        glViewportArrayv = getFunctionAddress(provider, unsupported, 848, "glViewportArrayv");
+        glViewportIndexedf = getFunctionAddress(provider, unsupported, 849, "glViewportIndexedf");
+        glViewportIndexedfv = getFunctionAddress(provider, unsupported, 850, "glViewportIndexedfv");
+        glScissorArrayv = getFunctionAddress(provider, unsupported, 851, "glScissorArrayv");
+        glScissorIndexed = getFunctionAddress(provider, unsupported, 852, "glScissorIndexed");
+        glScissorIndexedv = getFunctionAddress(provider, unsupported, 853, "glScissorIndexedv");
+        glDepthRangeArrayv = getFunctionAddress(provider, unsupported, 854, "glDepthRangeArrayv");
+        glDepthRangeIndexed = getFunctionAddress(provider, unsupported, 855, "glDepthRangeIndexed");
+        glGetFloati_v = getFunctionAddress(provider, unsupported, 856, "glGetFloati_v");
+        glGetDoublei_v = getFunctionAddress(provider, unsupported, 857, "glGetDoublei_v");
+        glGetActiveAtomicCounterBufferiv = getFunctionAddress(provider, unsupported, 858, "glGetActiveAtomicCounterBufferiv");
+        glTexStorage1D = getFunctionAddress(provider, unsupported, 859, "glTexStorage1D");
+        glTexStorage2D = getFunctionAddress(provider, unsupported, 860, "glTexStorage2D");
+        glTexStorage3D = getFunctionAddress(provider, unsupported, 861, "glTexStorage3D");
+        glDrawTransformFeedbackInstanced = getFunctionAddress(provider, unsupported, 862, "glDrawTransformFeedbackInstanced");
+        glDrawTransformFeedbackStreamInstanced = getFunctionAddress(provider, unsupported, 863, "glDrawTransformFeedbackStreamInstanced");
+        glDrawArraysInstancedBaseInstance = getFunctionAddress(provider, unsupported, 864, "glDrawArraysInstancedBaseInstance");
+        glDrawElementsInstancedBaseInstance = getFunctionAddress(provider, unsupported, 865, "glDrawElementsInstancedBaseInstance");
+        glDrawElementsInstancedBaseVertexBaseInstance = getFunctionAddress(provider, unsupported, 866, "glDrawElementsInstancedBaseVertexBaseInstance");
+        glBindImageTexture = getFunctionAddress(provider, unsupported, 867, "glBindImageTexture");
+        glMemoryBarrier = getFunctionAddress(provider, unsupported, 868, "glMemoryBarrier");
+        glGetInternalformativ = getFunctionAddress(provider, unsupported, 869, "glGetInternalformativ");
+        glClearBufferData = getFunctionAddress(provider, unsupported, 870, "glClearBufferData");
+        glClearBufferSubData = getFunctionAddress(provider, unsupported, 871, "glClearBufferSubData");
+        glDispatchCompute = getFunctionAddress(provider, unsupported, 872, "glDispatchCompute");
+        glDispatchComputeIndirect = getFunctionAddress(provider, unsupported, 873, "glDispatchComputeIndirect");
+        glCopyImageSubData = getFunctionAddress(provider, unsupported, 874, "glCopyImageSubData");
+        glDebugMessageControl = getFunctionAddress(provider, unsupported, 875, "glDebugMessageControl");
+        glDebugMessageInsert = getFunctionAddress(provider, unsupported, 876, "glDebugMessageInsert");
+        glDebugMessageCallback = getFunctionAddress(provider, unsupported, 877, "glDebugMessageCallback");
+        glGetDebugMessageLog = getFunctionAddress(provider, unsupported, 878, "glGetDebugMessageLog");
+        glPushDebugGroup = getFunctionAddress(provider, unsupported, 879, "glPushDebugGroup");
+        glPopDebugGroup = getFunctionAddress(provider, unsupported, 880, "glPopDebugGroup");
+        glObjectLabel = getFunctionAddress(provider, unsupported, 881, "glObjectLabel");
+        glGetObjectLabel = getFunctionAddress(provider, unsupported, 882, "glGetObjectLabel");
+        glObjectPtrLabel = getFunctionAddress(provider, unsupported, 883, "glObjectPtrLabel");
+        glGetObjectPtrLabel = getFunctionAddress(provider, unsupported, 884, "glGetObjectPtrLabel");
+        glFramebufferParameteri = getFunctionAddress(provider, unsupported, 885, "glFramebufferParameteri");
+        glGetFramebufferParameteriv = getFunctionAddress(provider, unsupported, 886, "glGetFramebufferParameteriv");
+        glGetInternalformati64v = getFunctionAddress(provider, unsupported, 887, "glGetInternalformati64v");
+        glInvalidateTexSubImage = getFunctionAddress(provider, unsupported, 888, "glInvalidateTexSubImage");
+        glInvalidateTexImage = getFunctionAddress(provider, unsupported, 889, "glInvalidateTexImage");
+        glInvalidateBufferSubData = getFunctionAddress(provider, unsupported, 890, "glInvalidateBufferSubData");
+        glInvalidateBufferData = getFunctionAddress(provider, unsupported, 891, "glInvalidateBufferData");
+        glInvalidateFramebuffer = getFunctionAddress(provider, unsupported, 892, "glInvalidateFramebuffer");
+        glInvalidateSubFramebuffer = getFunctionAddress(provider, unsupported, 893, "glInvalidateSubFramebuffer");
+        glMultiDrawArraysIndirect = getFunctionAddress(provider, unsupported, 894, "glMultiDrawArraysIndirect");
+        glMultiDrawElementsIndirect = getFunctionAddress(provider, unsupported, 895, "glMultiDrawElementsIndirect");
+        glGetProgramInterfaceiv = getFunctionAddress(provider, unsupported, 896, "glGetProgramInterfaceiv");
+        glGetProgramResourceIndex = getFunctionAddress(provider, unsupported, 897, "glGetProgramResourceIndex");
+        glGetProgramResourceName = getFunctionAddress(provider, unsupported, 898, "glGetProgramResourceName");
+        glGetProgramResourceiv = getFunctionAddress(provider, unsupported, 899, "glGetProgramResourceiv");
+        glGetProgramResourceLocation = getFunctionAddress(provider, unsupported, 900, "glGetProgramResourceLocation");
+        glGetProgramResourceLocationIndex = getFunctionAddress(provider, unsupported, 901, "glGetProgramResourceLocationIndex");
+        glShaderStorageBlockBinding = getFunctionAddress(provider, unsupported, 902, "glShaderStorageBlockBinding");
+        glTexBufferRange = getFunctionAddress(provider, unsupported, 903, "glTexBufferRange");
+        glTexStorage2DMultisample = getFunctionAddress(provider, unsupported, 904, "glTexStorage2DMultisample");
+        glTexStorage3DMultisample = getFunctionAddress(provider, unsupported, 905, "glTexStorage3DMultisample");
+        glTextureView = getFunctionAddress(provider, unsupported, 906, "glTextureView");
+        glBindVertexBuffer = getFunctionAddress(provider, unsupported, 907, "glBindVertexBuffer");
+        glVertexAttribFormat = getFunctionAddress(provider, unsupported, 908, "glVertexAttribFormat");
+        glVertexAttribIFormat = getFunctionAddress(provider, unsupported, 909, "glVertexAttribIFormat");
+        glVertexAttribLFormat = getFunctionAddress(provider, unsupported, 910, "glVertexAttribLFormat");
+        glVertexAttribBinding = getFunctionAddress(provider, unsupported, 911, "glVertexAttribBinding");
+        glVertexBindingDivisor = getFunctionAddress(provider, unsupported, 912, "glVertexBindingDivisor");
+        glBufferStorage = getFunctionAddress(provider, unsupported, 913, "glBufferStorage");
+        glClearTexSubImage = getFunctionAddress(provider, unsupported, 914, "glClearTexSubImage");
+        glClearTexImage = getFunctionAddress(provider, unsupported, 915, "glClearTexImage");
+        glBindBuffersBase = getFunctionAddress(provider, unsupported, 916, "glBindBuffersBase");
+        glBindBuffersRange = getFunctionAddress(provider, unsupported, 917, "glBindBuffersRange");
+        glBindTextures = getFunctionAddress(provider, unsupported, 918, "glBindTextures");
+        glBindSamplers = getFunctionAddress(provider, unsupported, 919, "glBindSamplers");
+        glBindImageTextures = getFunctionAddress(provider, unsupported, 920, "glBindImageTextures");
+        glBindVertexBuffers = getFunctionAddress(provider, unsupported, 921, "glBindVertexBuffers");
+        glGetnMapdv = getFunctionAddress(provider, unsupported, 922, "glGetnMapdv");
+        glGetnMapfv = getFunctionAddress(provider, unsupported, 923, "glGetnMapfv");
+        glGetnMapiv = getFunctionAddress(provider, unsupported, 924, "glGetnMapiv");
+        glGetnPixelMapfv = getFunctionAddress(provider, unsupported, 925, "glGetnPixelMapfv");
+        glGetnPixelMapuiv = getFunctionAddress(provider, unsupported, 926, "glGetnPixelMapuiv");
+        glGetnPixelMapusv = getFunctionAddress(provider, unsupported, 927, "glGetnPixelMapusv");
+        glGetnPolygonStipple = getFunctionAddress(provider, unsupported, 928, "glGetnPolygonStipple");
+        glGetnColorTable = getFunctionAddress(provider, unsupported, 929, "glGetnColorTable");
+        glGetnConvolutionFilter = getFunctionAddress(provider, unsupported, 930, "glGetnConvolutionFilter");
+        glGetnSeparableFilter = getFunctionAddress(provider, unsupported, 931, "glGetnSeparableFilter");
+        glGetnHistogram = getFunctionAddress(provider, unsupported, 932, "glGetnHistogram");
+        glGetnMinmax = getFunctionAddress(provider, unsupported, 933, "glGetnMinmax");
+        glClipControl = getFunctionAddress(provider, unsupported, 934, "glClipControl");
+        glCreateTransformFeedbacks = getFunctionAddress(provider, unsupported, 935, "glCreateTransformFeedbacks");
+        glTransformFeedbackBufferBase = getFunctionAddress(provider, unsupported, 936, "glTransformFeedbackBufferBase");
+        glTransformFeedbackBufferRange = getFunctionAddress(provider, unsupported, 937, "glTransformFeedbackBufferRange");
+        glGetTransformFeedbackiv = getFunctionAddress(provider, unsupported, 938, "glGetTransformFeedbackiv");
+        glGetTransformFeedbacki_v = getFunctionAddress(provider, unsupported, 939, "glGetTransformFeedbacki_v");
+        glGetTransformFeedbacki64_v = getFunctionAddress(provider, unsupported, 940, "glGetTransformFeedbacki64_v");
+        glCreateBuffers = getFunctionAddress(provider, unsupported, 941, "glCreateBuffers");
+        glNamedBufferStorage = getFunctionAddress(provider, unsupported, 942, "glNamedBufferStorage");
+        glNamedBufferData = getFunctionAddress(provider, unsupported, 943, "glNamedBufferData");
+        glNamedBufferSubData = getFunctionAddress(provider, unsupported, 944, "glNamedBufferSubData");
+        glCopyNamedBufferSubData = getFunctionAddress(provider, unsupported, 945, "glCopyNamedBufferSubData");
+        glClearNamedBufferData = getFunctionAddress(provider, unsupported, 946, "glClearNamedBufferData");
+        glClearNamedBufferSubData = getFunctionAddress(provider, unsupported, 947, "glClearNamedBufferSubData");
+        glMapNamedBuffer = getFunctionAddress(provider, unsupported, 948, "glMapNamedBuffer");
+        glMapNamedBufferRange = getFunctionAddress(provider, unsupported, 949, "glMapNamedBufferRange");
+        glUnmapNamedBuffer = getFunctionAddress(provider, unsupported, 950, "glUnmapNamedBuffer");
+        glFlushMappedNamedBufferRange = getFunctionAddress(provider, unsupported, 951, "glFlushMappedNamedBufferRange");
+        glGetNamedBufferParameteriv = getFunctionAddress(provider, unsupported, 952, "glGetNamedBufferParameteriv");
+        glGetNamedBufferParameteri64v = getFunctionAddress(provider, unsupported, 953, "glGetNamedBufferParameteri64v");
+        glGetNamedBufferPointerv = getFunctionAddress(provider, unsupported, 954, "glGetNamedBufferPointerv");
+        glGetNamedBufferSubData = getFunctionAddress(provider, unsupported, 955, "glGetNamedBufferSubData");
+        glCreateFramebuffers = getFunctionAddress(provider, unsupported, 956, "glCreateFramebuffers");
+        glNamedFramebufferRenderbuffer = getFunctionAddress(provider, unsupported, 957, "glNamedFramebufferRenderbuffer");
+        glNamedFramebufferParameteri = getFunctionAddress(provider, unsupported, 958, "glNamedFramebufferParameteri");
+        glNamedFramebufferTexture = getFunctionAddress(provider, unsupported, 959, "glNamedFramebufferTexture");
+        glNamedFramebufferTextureLayer = getFunctionAddress(provider, unsupported, 960, "glNamedFramebufferTextureLayer");
+        glNamedFramebufferDrawBuffer = getFunctionAddress(provider, unsupported, 961, "glNamedFramebufferDrawBuffer");
+        glNamedFramebufferDrawBuffers = getFunctionAddress(provider, unsupported, 962, "glNamedFramebufferDrawBuffers");
+        glNamedFramebufferReadBuffer = getFunctionAddress(provider, unsupported, 963, "glNamedFramebufferReadBuffer");
+        glInvalidateNamedFramebufferData = getFunctionAddress(provider, unsupported, 964, "glInvalidateNamedFramebufferData");
+        glInvalidateNamedFramebufferSubData = getFunctionAddress(provider, unsupported, 965, "glInvalidateNamedFramebufferSubData");
+        glClearNamedFramebufferiv = getFunctionAddress(provider, unsupported, 966, "glClearNamedFramebufferiv");
+        glClearNamedFramebufferuiv = getFunctionAddress(provider, unsupported, 967, "glClearNamedFramebufferuiv");
+        glClearNamedFramebufferfv = getFunctionAddress(provider, unsupported, 968, "glClearNamedFramebufferfv");
+        glClearNamedFramebufferfi = getFunctionAddress(provider, unsupported, 969, "glClearNamedFramebufferfi");
+        glBlitNamedFramebuffer = getFunctionAddress(provider, unsupported, 970, "glBlitNamedFramebuffer");
+        glCheckNamedFramebufferStatus = getFunctionAddress(provider, unsupported, 971, "glCheckNamedFramebufferStatus");
+        glGetNamedFramebufferParameteriv = getFunctionAddress(provider, unsupported, 972, "glGetNamedFramebufferParameteriv");
+        glGetNamedFramebufferAttachmentParameteriv = getFunctionAddress(provider, unsupported, 973, "glGetNamedFramebufferAttachmentParameteriv");
+        glCreateRenderbuffers = getFunctionAddress(provider, unsupported, 974, "glCreateRenderbuffers");
+        glNamedRenderbufferStorage = getFunctionAddress(provider, unsupported, 975, "glNamedRenderbufferStorage");
+        glNamedRenderbufferStorageMultisample = getFunctionAddress(provider, unsupported, 976, "glNamedRenderbufferStorageMultisample");
+        glGetNamedRenderbufferParameteriv = getFunctionAddress(provider, unsupported, 977, "glGetNamedRenderbufferParameteriv");
+        glCreateTextures = getFunctionAddress(provider, unsupported, 978, "glCreateTextures");
+        glTextureBuffer = getFunctionAddress(provider, unsupported, 979, "glTextureBuffer");
+        glTextureBufferRange = getFunctionAddress(provider, unsupported, 980, "glTextureBufferRange");
+        glTextureStorage1D = getFunctionAddress(provider, unsupported, 981, "glTextureStorage1D");
+        glTextureStorage2D = getFunctionAddress(provider, unsupported, 982, "glTextureStorage2D");
+        glTextureStorage3D = getFunctionAddress(provider, unsupported, 983, "glTextureStorage3D");
+        glTextureStorage2DMultisample = getFunctionAddress(provider, unsupported, 984, "glTextureStorage2DMultisample");
+        glTextureStorage3DMultisample = getFunctionAddress(provider, unsupported, 985, "glTextureStorage3DMultisample");
+        glTextureSubImage1D = getFunctionAddress(provider, unsupported, 986, "glTextureSubImage1D");
+        glTextureSubImage2D = getFunctionAddress(provider, unsupported, 987, "glTextureSubImage2D");
+        glTextureSubImage3D = getFunctionAddress(provider, unsupported, 988, "glTextureSubImage3D");
+        glCompressedTextureSubImage1D = getFunctionAddress(provider, unsupported, 989, "glCompressedTextureSubImage1D");
+        glCompressedTextureSubImage2D = getFunctionAddress(provider, unsupported, 990, "glCompressedTextureSubImage2D");
+        glCompressedTextureSubImage3D = getFunctionAddress(provider, unsupported, 991, "glCompressedTextureSubImage3D");
+        glCopyTextureSubImage1D = getFunctionAddress(provider, unsupported, 992, "glCopyTextureSubImage1D");
+        glCopyTextureSubImage2D = getFunctionAddress(provider, unsupported, 993, "glCopyTextureSubImage2D");
+        glCopyTextureSubImage3D = getFunctionAddress(provider, unsupported, 994, "glCopyTextureSubImage3D");
+        glTextureParameterf = getFunctionAddress(provider, unsupported, 995, "glTextureParameterf");
+        glTextureParameterfv = getFunctionAddress(provider, unsupported, 996, "glTextureParameterfv");
+        glTextureParameteri = getFunctionAddress(provider, unsupported, 997, "glTextureParameteri");
+        glTextureParameterIiv = getFunctionAddress(provider, unsupported, 998, "glTextureParameterIiv");
+        glTextureParameterIuiv = getFunctionAddress(provider, unsupported, 999, "glTextureParameterIuiv");
+        glTextureParameteriv = getFunctionAddress(provider, unsupported, 1000, "glTextureParameteriv");
+        glGenerateTextureMipmap = getFunctionAddress(provider, unsupported, 1001, "glGenerateTextureMipmap");
+        glBindTextureUnit = getFunctionAddress(provider, unsupported, 1002, "glBindTextureUnit");
+        glGetTextureImage = getFunctionAddress(provider, unsupported, 1003, "glGetTextureImage");
+        glGetCompressedTextureImage = getFunctionAddress(provider, unsupported, 1004, "glGetCompressedTextureImage");
+        glGetTextureLevelParameterfv = getFunctionAddress(provider, unsupported, 1005, "glGetTextureLevelParameterfv");
+        glGetTextureLevelParameteriv = getFunctionAddress(provider, unsupported, 1006, "glGetTextureLevelParameteriv");
+        glGetTextureParameterfv = getFunctionAddress(provider, unsupported, 1007, "glGetTextureParameterfv");
+        glGetTextureParameterIiv = getFunctionAddress(provider, unsupported, 1008, "glGetTextureParameterIiv");
+        glGetTextureParameterIuiv = getFunctionAddress(provider, unsupported, 1009, "glGetTextureParameterIuiv");
+        glGetTextureParameteriv = getFunctionAddress(provider, unsupported, 1010, "glGetTextureParameteriv");
+        glCreateVertexArrays = getFunctionAddress(provider, unsupported, 1011, "glCreateVertexArrays");
+        glDisableVertexArrayAttrib = getFunctionAddress(provider, unsupported, 1012, "glDisableVertexArrayAttrib");
+        glEnableVertexArrayAttrib = getFunctionAddress(provider, unsupported, 1013, "glEnableVertexArrayAttrib");
+        glVertexArrayElementBuffer = getFunctionAddress(provider, unsupported, 1014, "glVertexArrayElementBuffer");
+        glVertexArrayVertexBuffer = getFunctionAddress(provider, unsupported, 1015, "glVertexArrayVertexBuffer");
+        glVertexArrayVertexBuffers = getFunctionAddress(provider, unsupported, 1016, "glVertexArrayVertexBuffers");
+        glVertexArrayAttribFormat = getFunctionAddress(provider, unsupported, 1017, "glVertexArrayAttribFormat");
+        glVertexArrayAttribIFormat = getFunctionAddress(provider, unsupported, 1018, "glVertexArrayAttribIFormat");
+        glVertexArrayAttribLFormat = getFunctionAddress(provider, unsupported, 1019, "glVertexArrayAttribLFormat");
+        glVertexArrayAttribBinding = getFunctionAddress(provider, unsupported, 1020, "glVertexArrayAttribBinding");
+        glVertexArrayBindingDivisor = getFunctionAddress(provider, unsupported, 1021, "glVertexArrayBindingDivisor");
+        glGetVertexArrayiv = getFunctionAddress(provider, unsupported, 1022, "glGetVertexArrayiv");
+        glGetVertexArrayIndexediv = getFunctionAddress(provider, unsupported, 1023, "glGetVertexArrayIndexediv");
+        glGetVertexArrayIndexed64iv = getFunctionAddress(provider, unsupported, 1024, "glGetVertexArrayIndexed64iv");
+        glCreateSamplers = getFunctionAddress(provider, unsupported, 1025, "glCreateSamplers");
+        glCreateProgramPipelines = getFunctionAddress(provider, unsupported, 1026, "glCreateProgramPipelines");
+        glCreateQueries = getFunctionAddress(provider, unsupported, 1027, "glCreateQueries");
+        glGetQueryBufferObjectiv = getFunctionAddress(provider, unsupported, 1028, "glGetQueryBufferObjectiv");
+        glGetQueryBufferObjectuiv = getFunctionAddress(provider, unsupported, 1029, "glGetQueryBufferObjectuiv");
+        glGetQueryBufferObjecti64v = getFunctionAddress(provider, unsupported, 1030, "glGetQueryBufferObjecti64v");
+        glGetQueryBufferObjectui64v = getFunctionAddress(provider, unsupported, 1031, "glGetQueryBufferObjectui64v");
+        glMemoryBarrierByRegion = getFunctionAddress(provider, unsupported, 1032, "glMemoryBarrierByRegion");
+        glGetTextureSubImage = getFunctionAddress(provider, unsupported, 1033, "glGetTextureSubImage");
+        glGetCompressedTextureSubImage = getFunctionAddress(provider, unsupported, 1034, "glGetCompressedTextureSubImage");
+        glTextureBarrier = getFunctionAddress(provider, unsupported, 1035, "glTextureBarrier");
+        glGetGraphicsResetStatus = getFunctionAddress(provider, unsupported, 1036, "glGetGraphicsResetStatus");
+        glGetnTexImage = getFunctionAddress(provider, unsupported, 1037, "glGetnTexImage");
+        glReadnPixels = getFunctionAddress(provider, unsupported, 1038, "glReadnPixels");
+        glGetnCompressedTexImage = getFunctionAddress(provider, unsupported, 1039, "glGetnCompressedTexImage");
+        glGetnUniformfv = getFunctionAddress(provider, unsupported, 1040, "glGetnUniformfv");
+        glGetnUniformdv = getFunctionAddress(provider, unsupported, 1041, "glGetnUniformdv");
+        glGetnUniformiv = getFunctionAddress(provider, unsupported, 1042, "glGetnUniformiv");
+        glGetnUniformuiv = getFunctionAddress(provider, unsupported, 1043, "glGetnUniformuiv");
+        glMultiDrawArraysIndirectCount = getFunctionAddress(provider, unsupported, 1044, "glMultiDrawArraysIndirectCount");
+        glMultiDrawElementsIndirectCount = getFunctionAddress(provider, unsupported, 1045, "glMultiDrawElementsIndirectCount");
+        glPolygonOffsetClamp = getFunctionAddress(provider, unsupported, 1046, "glPolygonOffsetClamp");
+        glSpecializeShader = getFunctionAddress(provider, unsupported, 1047, "glSpecializeShader");
+        glDebugMessageEnableAMD = getFunctionAddress(provider, unsupported, 1048, "glDebugMessageEnableAMD");
+        glDebugMessageInsertAMD = getFunctionAddress(provider, unsupported, 1049, "glDebugMessageInsertAMD");
+        glDebugMessageCallbackAMD = getFunctionAddress(provider, unsupported, 1050, "glDebugMessageCallbackAMD");
+        glGetDebugMessageLogAMD = getFunctionAddress(provider, unsupported, 1051, "glGetDebugMessageLogAMD");
+        glBlendFuncIndexedAMD = getFunctionAddress(provider, unsupported, 1052, "glBlendFuncIndexedAMD");
+        glBlendFuncSeparateIndexedAMD = getFunctionAddress(provider, unsupported, 1053, "glBlendFuncSeparateIndexedAMD");
+        glBlendEquationIndexedAMD = getFunctionAddress(provider, unsupported, 1054, "glBlendEquationIndexedAMD");
+        glBlendEquationSeparateIndexedAMD = getFunctionAddress(provider, unsupported, 1055, "glBlendEquationSeparateIndexedAMD");
+        glRenderbufferStorageMultisampleAdvancedAMD = getFunctionAddress(provider, unsupported, 1056, "glRenderbufferStorageMultisampleAdvancedAMD");
+        glNamedRenderbufferStorageMultisampleAdvancedAMD = getFunctionAddress(provider, unsupported, 1057, "glNamedRenderbufferStorageMultisampleAdvancedAMD");
+        glVertexAttribParameteriAMD = getFunctionAddress(provider, unsupported, 1058, "glVertexAttribParameteriAMD");
+        glQueryObjectParameteruiAMD = getFunctionAddress(provider, unsupported, 1059, "glQueryObjectParameteruiAMD");
+        glGetPerfMonitorGroupsAMD = getFunctionAddress(provider, unsupported, 1060, "glGetPerfMonitorGroupsAMD");
+        glGetPerfMonitorCountersAMD = getFunctionAddress(provider, unsupported, 1061, "glGetPerfMonitorCountersAMD");
+        glGetPerfMonitorGroupStringAMD = getFunctionAddress(provider, unsupported, 1062, "glGetPerfMonitorGroupStringAMD");
+        glGetPerfMonitorCounterStringAMD = getFunctionAddress(provider, unsupported, 1063, "glGetPerfMonitorCounterStringAMD");
+        glGetPerfMonitorCounterInfoAMD = getFunctionAddress(provider, unsupported, 1064, "glGetPerfMonitorCounterInfoAMD");
+        glGenPerfMonitorsAMD = getFunctionAddress(provider, unsupported, 1065, "glGenPerfMonitorsAMD");
+        glDeletePerfMonitorsAMD = getFunctionAddress(provider, unsupported, 1066, "glDeletePerfMonitorsAMD");
+        glSelectPerfMonitorCountersAMD = getFunctionAddress(provider, unsupported, 1067, "glSelectPerfMonitorCountersAMD");
+        glBeginPerfMonitorAMD = getFunctionAddress(provider, unsupported, 1068, "glBeginPerfMonitorAMD");
+        glEndPerfMonitorAMD = getFunctionAddress(provider, unsupported, 1069, "glEndPerfMonitorAMD");
+        glGetPerfMonitorCounterDataAMD = getFunctionAddress(provider, unsupported, 1070, "glGetPerfMonitorCounterDataAMD");
+        glSetMultisamplefvAMD = getFunctionAddress(provider, unsupported, 1071, "glSetMultisamplefvAMD");
+        glTexStorageSparseAMD = getFunctionAddress(provider, unsupported, 1072, "glTexStorageSparseAMD");
+        glTextureStorageSparseAMD = getFunctionAddress(provider, unsupported, 1073, "glTextureStorageSparseAMD");
+        glStencilOpValueAMD = getFunctionAddress(provider, unsupported, 1074, "glStencilOpValueAMD");
+        glTessellationFactorAMD = getFunctionAddress(provider, unsupported, 1075, "glTessellationFactorAMD");
+        glTessellationModeAMD = getFunctionAddress(provider, unsupported, 1076, "glTessellationModeAMD");
+        glGetTextureHandleARB = getFunctionAddress(provider, unsupported, 1077, "glGetTextureHandleARB");
+        glGetTextureSamplerHandleARB = getFunctionAddress(provider, unsupported, 1078, "glGetTextureSamplerHandleARB");
+        glMakeTextureHandleResidentARB = getFunctionAddress(provider, unsupported, 1079, "glMakeTextureHandleResidentARB");
+        glMakeTextureHandleNonResidentARB = getFunctionAddress(provider, unsupported, 1080, "glMakeTextureHandleNonResidentARB");
+        glGetImageHandleARB = getFunctionAddress(provider, unsupported, 1081, "glGetImageHandleARB");
+        glMakeImageHandleResidentARB = getFunctionAddress(provider, unsupported, 1082, "glMakeImageHandleResidentARB");
+        glMakeImageHandleNonResidentARB = getFunctionAddress(provider, unsupported, 1083, "glMakeImageHandleNonResidentARB");
+        glUniformHandleui64ARB = getFunctionAddress(provider, unsupported, 1084, "glUniformHandleui64ARB");
+        glUniformHandleui64vARB = getFunctionAddress(provider, unsupported, 1085, "glUniformHandleui64vARB");
+        glProgramUniformHandleui64ARB = getFunctionAddress(provider, unsupported, 1086, "glProgramUniformHandleui64ARB");
+        glProgramUniformHandleui64vARB = getFunctionAddress(provider, unsupported, 1087, "glProgramUniformHandleui64vARB");
+        glIsTextureHandleResidentARB = getFunctionAddress(provider, unsupported, 1088, "glIsTextureHandleResidentARB");
+        glIsImageHandleResidentARB = getFunctionAddress(provider, unsupported, 1089, "glIsImageHandleResidentARB");
+        glVertexAttribL1ui64ARB = getFunctionAddress(provider, unsupported, 1090, "glVertexAttribL1ui64ARB");
+        glVertexAttribL1ui64vARB = getFunctionAddress(provider, unsupported, 1091, "glVertexAttribL1ui64vARB");
+        glGetVertexAttribLui64vARB = getFunctionAddress(provider, unsupported, 1092, "glGetVertexAttribLui64vARB");
+        glNamedBufferStorageEXT = getFunctionAddress(provider, unsupported, 1093, "glNamedBufferStorageEXT");
+        glCreateSyncFromCLeventARB = getFunctionAddress(provider, unsupported, 1094, "glCreateSyncFromCLeventARB");
+        glClearNamedBufferDataEXT = getFunctionAddress(provider, unsupported, 1095, "glClearNamedBufferDataEXT");
+        glClearNamedBufferSubDataEXT = getFunctionAddress(provider, unsupported, 1096, "glClearNamedBufferSubDataEXT");
+        glClampColorARB = getFunctionAddress(provider, unsupported, 1097, "glClampColorARB");
+        glDispatchComputeGroupSizeARB = getFunctionAddress(provider, unsupported, 1098, "glDispatchComputeGroupSizeARB");
+        glDebugMessageControlARB = getFunctionAddress(provider, unsupported, 1099, "glDebugMessageControlARB");
+        glDebugMessageInsertARB = getFunctionAddress(provider, unsupported, 1100, "glDebugMessageInsertARB");
+        glDebugMessageCallbackARB = getFunctionAddress(provider, unsupported, 1101, "glDebugMessageCallbackARB");
+        glGetDebugMessageLogARB = getFunctionAddress(provider, unsupported, 1102, "glGetDebugMessageLogARB");
+        glDrawBuffersARB = getFunctionAddress(provider, unsupported, 1103, "glDrawBuffersARB");
+        glBlendEquationiARB = getFunctionAddress(provider, unsupported, 1104, "glBlendEquationiARB");
+        glBlendEquationSeparateiARB = getFunctionAddress(provider, unsupported, 1105, "glBlendEquationSeparateiARB");
+        glBlendFunciARB = getFunctionAddress(provider, unsupported, 1106, "glBlendFunciARB");
+        glBlendFuncSeparateiARB = getFunctionAddress(provider, unsupported, 1107, "glBlendFuncSeparateiARB");
+        glDrawArraysInstancedARB = getFunctionAddress(provider, unsupported, 1108, "glDrawArraysInstancedARB");
+        glDrawElementsInstancedARB = getFunctionAddress(provider, unsupported, 1109, "glDrawElementsInstancedARB");
+        glPrimitiveBoundingBoxARB = getFunctionAddress(provider, unsupported, 1110, "glPrimitiveBoundingBoxARB");
+        glNamedFramebufferParameteriEXT = getFunctionAddress(provider, unsupported, 1111, "glNamedFramebufferParameteriEXT");
+        glGetNamedFramebufferParameterivEXT = getFunctionAddress(provider, unsupported, 1112, "glGetNamedFramebufferParameterivEXT");
+        glProgramParameteriARB = getFunctionAddress(provider, unsupported, 1113, "glProgramParameteriARB");
+        glFramebufferTextureARB = getFunctionAddress(provider, unsupported, 1114, "glFramebufferTextureARB");
+        glFramebufferTextureLayerARB = getFunctionAddress(provider, unsupported, 1115, "glFramebufferTextureLayerARB");
+        glFramebufferTextureFaceARB = getFunctionAddress(provider, unsupported, 1116, "glFramebufferTextureFaceARB");
+        glSpecializeShaderARB = getFunctionAddress(provider, unsupported, 1117, "glSpecializeShaderARB");
+        glProgramUniform1dEXT = getFunctionAddress(provider, unsupported, 1118, "glProgramUniform1dEXT");
+        glProgramUniform2dEXT = getFunctionAddress(provider, unsupported, 1119, "glProgramUniform2dEXT");
+        glProgramUniform3dEXT = getFunctionAddress(provider, unsupported, 1120, "glProgramUniform3dEXT");
+        glProgramUniform4dEXT = getFunctionAddress(provider, unsupported, 1121, "glProgramUniform4dEXT");
+        glProgramUniform1dvEXT = getFunctionAddress(provider, unsupported, 1122, "glProgramUniform1dvEXT");
+        glProgramUniform2dvEXT = getFunctionAddress(provider, unsupported, 1123, "glProgramUniform2dvEXT");
+        glProgramUniform3dvEXT = getFunctionAddress(provider, unsupported, 1124, "glProgramUniform3dvEXT");
+        glProgramUniform4dvEXT = getFunctionAddress(provider, unsupported, 1125, "glProgramUniform4dvEXT");
+        glProgramUniformMatrix2dvEXT = getFunctionAddress(provider, unsupported, 1126, "glProgramUniformMatrix2dvEXT");
+        glProgramUniformMatrix3dvEXT = getFunctionAddress(provider, unsupported, 1127, "glProgramUniformMatrix3dvEXT");
+        glProgramUniformMatrix4dvEXT = getFunctionAddress(provider, unsupported, 1128, "glProgramUniformMatrix4dvEXT");
+        glProgramUniformMatrix2x3dvEXT = getFunctionAddress(provider, unsupported, 1129, "glProgramUniformMatrix2x3dvEXT");
+        glProgramUniformMatrix2x4dvEXT = getFunctionAddress(provider, unsupported, 1130, "glProgramUniformMatrix2x4dvEXT");
+        glProgramUniformMatrix3x2dvEXT = getFunctionAddress(provider, unsupported, 1131, "glProgramUniformMatrix3x2dvEXT");
+        glProgramUniformMatrix3x4dvEXT = getFunctionAddress(provider, unsupported, 1132, "glProgramUniformMatrix3x4dvEXT");
+        glProgramUniformMatrix4x2dvEXT = getFunctionAddress(provider, unsupported, 1133, "glProgramUniformMatrix4x2dvEXT");
+        glProgramUniformMatrix4x3dvEXT = getFunctionAddress(provider, unsupported, 1134, "glProgramUniformMatrix4x3dvEXT");
+        glUniform1i64ARB = getFunctionAddress(provider, unsupported, 1135, "glUniform1i64ARB");
+        glUniform1i64vARB = getFunctionAddress(provider, unsupported, 1136, "glUniform1i64vARB");
+        glProgramUniform1i64ARB = getFunctionAddress(provider, unsupported, 1137, "glProgramUniform1i64ARB");
+        glProgramUniform1i64vARB = getFunctionAddress(provider, unsupported, 1138, "glProgramUniform1i64vARB");
+        glUniform2i64ARB = getFunctionAddress(provider, unsupported, 1139, "glUniform2i64ARB");
+        glUniform2i64vARB = getFunctionAddress(provider, unsupported, 1140, "glUniform2i64vARB");
+        glProgramUniform2i64ARB = getFunctionAddress(provider, unsupported, 1141, "glProgramUniform2i64ARB");
+        glProgramUniform2i64vARB = getFunctionAddress(provider, unsupported, 1142, "glProgramUniform2i64vARB");
+        glUniform3i64ARB = getFunctionAddress(provider, unsupported, 1143, "glUniform3i64ARB");
+        glUniform3i64vARB = getFunctionAddress(provider, unsupported, 1144, "glUniform3i64vARB");
+        glProgramUniform3i64ARB = getFunctionAddress(provider, unsupported, 1145, "glProgramUniform3i64ARB");
+        glProgramUniform3i64vARB = getFunctionAddress(provider, unsupported, 1146, "glProgramUniform3i64vARB");
+        glUniform4i64ARB = getFunctionAddress(provider, unsupported, 1147, "glUniform4i64ARB");
+        glUniform4i64vARB = getFunctionAddress(provider, unsupported, 1148, "glUniform4i64vARB");
+        glProgramUniform4i64ARB = getFunctionAddress(provider, unsupported, 1149, "glProgramUniform4i64ARB");
+        glProgramUniform4i64vARB = getFunctionAddress(provider, unsupported, 1150, "glProgramUniform4i64vARB");
+        glUniform1ui64ARB = getFunctionAddress(provider, unsupported, 1151, "glUniform1ui64ARB");
+        glUniform1ui64vARB = getFunctionAddress(provider, unsupported, 1152, "glUniform1ui64vARB");
+        glProgramUniform1ui64ARB = getFunctionAddress(provider, unsupported, 1153, "glProgramUniform1ui64ARB");
+        glProgramUniform1ui64vARB = getFunctionAddress(provider, unsupported, 1154, "glProgramUniform1ui64vARB");
+        glUniform2ui64ARB = getFunctionAddress(provider, unsupported, 1155, "glUniform2ui64ARB");
+        glUniform2ui64vARB = getFunctionAddress(provider, unsupported, 1156, "glUniform2ui64vARB");
+        glProgramUniform2ui64ARB = getFunctionAddress(provider, unsupported, 1157, "glProgramUniform2ui64ARB");
+        glProgramUniform2ui64vARB = getFunctionAddress(provider, unsupported, 1158, "glProgramUniform2ui64vARB");
+        glUniform3ui64ARB = getFunctionAddress(provider, unsupported, 1159, "glUniform3ui64ARB");
+        glUniform3ui64vARB = getFunctionAddress(provider, unsupported, 1160, "glUniform3ui64vARB");
+        glProgramUniform3ui64ARB = getFunctionAddress(provider, unsupported, 1161, "glProgramUniform3ui64ARB");
+        glProgramUniform3ui64vARB = getFunctionAddress(provider, unsupported, 1162, "glProgramUniform3ui64vARB");
+        glUniform4ui64ARB = getFunctionAddress(provider, unsupported, 1163, "glUniform4ui64ARB");
+        glUniform4ui64vARB = getFunctionAddress(provider, unsupported, 1164, "glUniform4ui64vARB");
+        glProgramUniform4ui64ARB = getFunctionAddress(provider, unsupported, 1165, "glProgramUniform4ui64ARB");
+        glProgramUniform4ui64vARB = getFunctionAddress(provider, unsupported, 1166, "glProgramUniform4ui64vARB");
+        glGetUniformi64vARB = getFunctionAddress(provider, unsupported, 1167, "glGetUniformi64vARB");
+        glGetUniformui64vARB = getFunctionAddress(provider, unsupported, 1168, "glGetUniformui64vARB");
+        glGetnUniformi64vARB = getFunctionAddress(provider, unsupported, 1169, "glGetnUniformi64vARB");
+        glGetnUniformui64vARB = getFunctionAddress(provider, unsupported, 1170, "glGetnUniformui64vARB");
+        glColorTable = getFunctionAddress(fc, provider, unsupported, 1171, "glColorTable");
+        glCopyColorTable = getFunctionAddress(fc, provider, unsupported, 1172, "glCopyColorTable");
+        glColorTableParameteriv = getFunctionAddress(fc, provider, unsupported, 1173, "glColorTableParameteriv");
+        glColorTableParameterfv = getFunctionAddress(fc, provider, unsupported, 1174, "glColorTableParameterfv");
+        glGetColorTable = getFunctionAddress(fc, provider, unsupported, 1175, "glGetColorTable");
+        glGetColorTableParameteriv = getFunctionAddress(fc, provider, unsupported, 1176, "glGetColorTableParameteriv");
+        glGetColorTableParameterfv = getFunctionAddress(fc, provider, unsupported, 1177, "glGetColorTableParameterfv");
+        glColorSubTable = getFunctionAddress(fc, provider, unsupported, 1178, "glColorSubTable");
+        glCopyColorSubTable = getFunctionAddress(fc, provider, unsupported, 1179, "glCopyColorSubTable");
+        glConvolutionFilter1D = getFunctionAddress(fc, provider, unsupported, 1180, "glConvolutionFilter1D");
+        glConvolutionFilter2D = getFunctionAddress(fc, provider, unsupported, 1181, "glConvolutionFilter2D");
+        glCopyConvolutionFilter1D = getFunctionAddress(fc, provider, unsupported, 1182, "glCopyConvolutionFilter1D");
+        glCopyConvolutionFilter2D = getFunctionAddress(fc, provider, unsupported, 1183, "glCopyConvolutionFilter2D");
+        glGetConvolutionFilter = getFunctionAddress(fc, provider, unsupported, 1184, "glGetConvolutionFilter");
+        glSeparableFilter2D = getFunctionAddress(fc, provider, unsupported, 1185, "glSeparableFilter2D");
+        glGetSeparableFilter = getFunctionAddress(fc, provider, unsupported, 1186, "glGetSeparableFilter");
+        glConvolutionParameteri = getFunctionAddress(fc, provider, unsupported, 1187, "glConvolutionParameteri");
+        glConvolutionParameteriv = getFunctionAddress(fc, provider, unsupported, 1188, "glConvolutionParameteriv");
+        glConvolutionParameterf = getFunctionAddress(fc, provider, unsupported, 1189, "glConvolutionParameterf");
+        glConvolutionParameterfv = getFunctionAddress(fc, provider, unsupported, 1190, "glConvolutionParameterfv");
+        glGetConvolutionParameteriv = getFunctionAddress(fc, provider, unsupported, 1191, "glGetConvolutionParameteriv");
+        glGetConvolutionParameterfv = getFunctionAddress(fc, provider, unsupported, 1192, "glGetConvolutionParameterfv");
+        glHistogram = getFunctionAddress(fc, provider, unsupported, 1193, "glHistogram");
+        glResetHistogram = getFunctionAddress(fc, provider, unsupported, 1194, "glResetHistogram");
+        glGetHistogram = getFunctionAddress(fc, provider, unsupported, 1195, "glGetHistogram");
+        glGetHistogramParameteriv = getFunctionAddress(fc, provider, unsupported, 1196, "glGetHistogramParameteriv");
+        glGetHistogramParameterfv = getFunctionAddress(fc, provider, unsupported, 1197, "glGetHistogramParameterfv");
+        glMinmax = getFunctionAddress(fc, provider, unsupported, 1198, "glMinmax");
+        glResetMinmax = getFunctionAddress(fc, provider, unsupported, 1199, "glResetMinmax");
+        glGetMinmax = getFunctionAddress(fc, provider, unsupported, 1200, "glGetMinmax");
+        glGetMinmaxParameteriv = getFunctionAddress(fc, provider, unsupported, 1201, "glGetMinmaxParameteriv");
+        glGetMinmaxParameterfv = getFunctionAddress(fc, provider, unsupported, 1202, "glGetMinmaxParameterfv");
+        glMultiDrawArraysIndirectCountARB = getFunctionAddress(provider, unsupported, 1203, "glMultiDrawArraysIndirectCountARB");
+        glMultiDrawElementsIndirectCountARB = getFunctionAddress(provider, unsupported, 1204, "glMultiDrawElementsIndirectCountARB");
+        glVertexAttribDivisorARB = getFunctionAddress(provider, unsupported, 1205, "glVertexAttribDivisorARB");
+        glVertexArrayVertexAttribDivisorEXT = getFunctionAddress(provider, unsupported, 1206, "glVertexArrayVertexAttribDivisorEXT");
+        glCurrentPaletteMatrixARB = getFunctionAddress(provider, unsupported, 1207, "glCurrentPaletteMatrixARB");
+        glMatrixIndexuivARB = getFunctionAddress(provider, unsupported, 1208, "glMatrixIndexuivARB");
+        glMatrixIndexubvARB = getFunctionAddress(provider, unsupported, 1209, "glMatrixIndexubvARB");
+        glMatrixIndexusvARB = getFunctionAddress(provider, unsupported, 1210, "glMatrixIndexusvARB");
+        glMatrixIndexPointerARB = getFunctionAddress(provider, unsupported, 1211, "glMatrixIndexPointerARB");
+        glSampleCoverageARB = getFunctionAddress(provider, unsupported, 1212, "glSampleCoverageARB");
+        glActiveTextureARB = getFunctionAddress(provider, unsupported, 1213, "glActiveTextureARB");
+        glClientActiveTextureARB = getFunctionAddress(provider, unsupported, 1214, "glClientActiveTextureARB");
+        glMultiTexCoord1fARB = getFunctionAddress(provider, unsupported, 1215, "glMultiTexCoord1fARB");
+        glMultiTexCoord1sARB = getFunctionAddress(provider, unsupported, 1216, "glMultiTexCoord1sARB");
+        glMultiTexCoord1iARB = getFunctionAddress(provider, unsupported, 1217, "glMultiTexCoord1iARB");
+        glMultiTexCoord1dARB = getFunctionAddress(provider, unsupported, 1218, "glMultiTexCoord1dARB");
+        glMultiTexCoord1fvARB = getFunctionAddress(provider, unsupported, 1219, "glMultiTexCoord1fvARB");
+        glMultiTexCoord1svARB = getFunctionAddress(provider, unsupported, 1220, "glMultiTexCoord1svARB");
+        glMultiTexCoord1ivARB = getFunctionAddress(provider, unsupported, 1221, "glMultiTexCoord1ivARB");
+        glMultiTexCoord1dvARB = getFunctionAddress(provider, unsupported, 1222, "glMultiTexCoord1dvARB");
+        glMultiTexCoord2fARB = getFunctionAddress(provider, unsupported, 1223, "glMultiTexCoord2fARB");
+        glMultiTexCoord2sARB = getFunctionAddress(provider, unsupported, 1224, "glMultiTexCoord2sARB");
+        glMultiTexCoord2iARB = getFunctionAddress(provider, unsupported, 1225, "glMultiTexCoord2iARB");
+        glMultiTexCoord2dARB = getFunctionAddress(provider, unsupported, 1226, "glMultiTexCoord2dARB");
+        glMultiTexCoord2fvARB = getFunctionAddress(provider, unsupported, 1227, "glMultiTexCoord2fvARB");
+        glMultiTexCoord2svARB = getFunctionAddress(provider, unsupported, 1228, "glMultiTexCoord2svARB");
+        glMultiTexCoord2ivARB = getFunctionAddress(provider, unsupported, 1229, "glMultiTexCoord2ivARB");
+        glMultiTexCoord2dvARB = getFunctionAddress(provider, unsupported, 1230, "glMultiTexCoord2dvARB");
+        glMultiTexCoord3fARB = getFunctionAddress(provider, unsupported, 1231, "glMultiTexCoord3fARB");
+        glMultiTexCoord3sARB = getFunctionAddress(provider, unsupported, 1232, "glMultiTexCoord3sARB");
+        glMultiTexCoord3iARB = getFunctionAddress(provider, unsupported, 1233, "glMultiTexCoord3iARB");
+        glMultiTexCoord3dARB = getFunctionAddress(provider, unsupported, 1234, "glMultiTexCoord3dARB");
+        glMultiTexCoord3fvARB = getFunctionAddress(provider, unsupported, 1235, "glMultiTexCoord3fvARB");
+        glMultiTexCoord3svARB = getFunctionAddress(provider, unsupported, 1236, "glMultiTexCoord3svARB");
+        glMultiTexCoord3ivARB = getFunctionAddress(provider, unsupported, 1237, "glMultiTexCoord3ivARB");
+        glMultiTexCoord3dvARB = getFunctionAddress(provider, unsupported, 1238, "glMultiTexCoord3dvARB");
+        glMultiTexCoord4fARB = getFunctionAddress(provider, unsupported, 1239, "glMultiTexCoord4fARB");
+        glMultiTexCoord4sARB = getFunctionAddress(provider, unsupported, 1240, "glMultiTexCoord4sARB");
+        glMultiTexCoord4iARB = getFunctionAddress(provider, unsupported, 1241, "glMultiTexCoord4iARB");
+        glMultiTexCoord4dARB = getFunctionAddress(provider, unsupported, 1242, "glMultiTexCoord4dARB");
+        glMultiTexCoord4fvARB = getFunctionAddress(provider, unsupported, 1243, "glMultiTexCoord4fvARB");
+        glMultiTexCoord4svARB = getFunctionAddress(provider, unsupported, 1244, "glMultiTexCoord4svARB");
+        glMultiTexCoord4ivARB = getFunctionAddress(provider, unsupported, 1245, "glMultiTexCoord4ivARB");
+        glMultiTexCoord4dvARB = getFunctionAddress(provider, unsupported, 1246, "glMultiTexCoord4dvARB");
+        glGenQueriesARB = getFunctionAddress(provider, unsupported, 1247, "glGenQueriesARB");
+        glDeleteQueriesARB = getFunctionAddress(provider, unsupported, 1248, "glDeleteQueriesARB");
+        glIsQueryARB = getFunctionAddress(provider, unsupported, 1249, "glIsQueryARB");
+        glBeginQueryARB = getFunctionAddress(provider, unsupported, 1250, "glBeginQueryARB");
+        glEndQueryARB = getFunctionAddress(provider, unsupported, 1251, "glEndQueryARB");
+        glGetQueryivARB = getFunctionAddress(provider, unsupported, 1252, "glGetQueryivARB");
+        glGetQueryObjectivARB = getFunctionAddress(provider, unsupported, 1253, "glGetQueryObjectivARB");
+        glGetQueryObjectuivARB = getFunctionAddress(provider, unsupported, 1254, "glGetQueryObjectuivARB");
+        glMaxShaderCompilerThreadsARB = getFunctionAddress(provider, unsupported, 1255, "glMaxShaderCompilerThreadsARB");
+        glPointParameterfARB = getFunctionAddress(provider, unsupported, 1256, "glPointParameterfARB");
+        glPointParameterfvARB = getFunctionAddress(provider, unsupported, 1257, "glPointParameterfvARB");
+        glGetGraphicsResetStatusARB = getFunctionAddress(provider, unsupported, 1258, "glGetGraphicsResetStatusARB");
+        glGetnMapdvARB = getFunctionAddress(provider, unsupported, 1259, "glGetnMapdvARB");
+        glGetnMapfvARB = getFunctionAddress(provider, unsupported, 1260, "glGetnMapfvARB");
+        glGetnMapivARB = getFunctionAddress(provider, unsupported, 1261, "glGetnMapivARB");
+        glGetnPixelMapfvARB = getFunctionAddress(provider, unsupported, 1262, "glGetnPixelMapfvARB");
+        glGetnPixelMapuivARB = getFunctionAddress(provider, unsupported, 1263, "glGetnPixelMapuivARB");
+        glGetnPixelMapusvARB = getFunctionAddress(provider, unsupported, 1264, "glGetnPixelMapusvARB");
+        glGetnPolygonStippleARB = getFunctionAddress(provider, unsupported, 1265, "glGetnPolygonStippleARB");
+        glGetnTexImageARB = getFunctionAddress(provider, unsupported, 1266, "glGetnTexImageARB");
+        glReadnPixelsARB = getFunctionAddress(provider, unsupported, 1267, "glReadnPixelsARB");
+        glGetnColorTableARB = getFunctionAddress(provider, unsupported, 1268, "glGetnColorTableARB");
+        glGetnConvolutionFilterARB = getFunctionAddress(provider, unsupported, 1269, "glGetnConvolutionFilterARB");
+        glGetnSeparableFilterARB = getFunctionAddress(provider, unsupported, 1270, "glGetnSeparableFilterARB");
+        glGetnHistogramARB = getFunctionAddress(provider, unsupported, 1271, "glGetnHistogramARB");
+        glGetnMinmaxARB = getFunctionAddress(provider, unsupported, 1272, "glGetnMinmaxARB");
+        glGetnCompressedTexImageARB = getFunctionAddress(provider, unsupported, 1273, "glGetnCompressedTexImageARB");
+        glGetnUniformfvARB = getFunctionAddress(provider, unsupported, 1274, "glGetnUniformfvARB");
+        glGetnUniformivARB = getFunctionAddress(provider, unsupported, 1275, "glGetnUniformivARB");
+        glGetnUniformuivARB = getFunctionAddress(provider, unsupported, 1276, "glGetnUniformuivARB");
+        glGetnUniformdvARB = getFunctionAddress(provider, unsupported, 1277, "glGetnUniformdvARB");
+        glFramebufferSampleLocationsfvARB = getFunctionAddress(provider, unsupported, 1278, "glFramebufferSampleLocationsfvARB");
+        glNamedFramebufferSampleLocationsfvARB = getFunctionAddress(provider, unsupported, 1279, "glNamedFramebufferSampleLocationsfvARB");
+        glEvaluateDepthValuesARB = getFunctionAddress(provider, unsupported, 1280, "glEvaluateDepthValuesARB");
+        glMinSampleShadingARB = getFunctionAddress(provider, unsupported, 1281, "glMinSampleShadingARB");
+        glDeleteObjectARB = getFunctionAddress(provider, unsupported, 1282, "glDeleteObjectARB");
+        glGetHandleARB = getFunctionAddress(provider, unsupported, 1283, "glGetHandleARB");
+        glDetachObjectARB = getFunctionAddress(provider, unsupported, 1284, "glDetachObjectARB");
+        glCreateShaderObjectARB = getFunctionAddress(provider, unsupported, 1285, "glCreateShaderObjectARB");
+        glShaderSourceARB = getFunctionAddress(provider, unsupported, 1286, "glShaderSourceARB");
+        glCompileShaderARB = getFunctionAddress(provider, unsupported, 1287, "glCompileShaderARB");
+        glCreateProgramObjectARB = getFunctionAddress(provider, unsupported, 1288, "glCreateProgramObjectARB");
+        glAttachObjectARB = getFunctionAddress(provider, unsupported, 1289, "glAttachObjectARB");
+        glLinkProgramARB = getFunctionAddress(provider, unsupported, 1290, "glLinkProgramARB");
+        glUseProgramObjectARB = getFunctionAddress(provider, unsupported, 1291, "glUseProgramObjectARB");
+        glValidateProgramARB = getFunctionAddress(provider, unsupported, 1292, "glValidateProgramARB");
+        glUniform1fARB = getFunctionAddress(provider, unsupported, 1293, "glUniform1fARB");
+        glUniform2fARB = getFunctionAddress(provider, unsupported, 1294, "glUniform2fARB");
+        glUniform3fARB = getFunctionAddress(provider, unsupported, 1295, "glUniform3fARB");
+        glUniform4fARB = getFunctionAddress(provider, unsupported, 1296, "glUniform4fARB");
+        glUniform1iARB = getFunctionAddress(provider, unsupported, 1297, "glUniform1iARB");
+        glUniform2iARB = getFunctionAddress(provider, unsupported, 1298, "glUniform2iARB");
+        glUniform3iARB = getFunctionAddress(provider, unsupported, 1299, "glUniform3iARB");
+        glUniform4iARB = getFunctionAddress(provider, unsupported, 1300, "glUniform4iARB");
+        glUniform1fvARB = getFunctionAddress(provider, unsupported, 1301, "glUniform1fvARB");
+        glUniform2fvARB = getFunctionAddress(provider, unsupported, 1302, "glUniform2fvARB");
+        glUniform3fvARB = getFunctionAddress(provider, unsupported, 1303, "glUniform3fvARB");
+        glUniform4fvARB = getFunctionAddress(provider, unsupported, 1304, "glUniform4fvARB");
+        glUniform1ivARB = getFunctionAddress(provider, unsupported, 1305, "glUniform1ivARB");
+        glUniform2ivARB = getFunctionAddress(provider, unsupported, 1306, "glUniform2ivARB");
+        glUniform3ivARB = getFunctionAddress(provider, unsupported, 1307, "glUniform3ivARB");
+        glUniform4ivARB = getFunctionAddress(provider, unsupported, 1308, "glUniform4ivARB");
+        glUniformMatrix2fvARB = getFunctionAddress(provider, unsupported, 1309, "glUniformMatrix2fvARB");
+        glUniformMatrix3fvARB = getFunctionAddress(provider, unsupported, 1310, "glUniformMatrix3fvARB");
+        glUniformMatrix4fvARB = getFunctionAddress(provider, unsupported, 1311, "glUniformMatrix4fvARB");
+        glGetObjectParameterfvARB = getFunctionAddress(provider, unsupported, 1312, "glGetObjectParameterfvARB");
+        glGetObjectParameterivARB = getFunctionAddress(provider, unsupported, 1313, "glGetObjectParameterivARB");
+        glGetInfoLogARB = getFunctionAddress(provider, unsupported, 1314, "glGetInfoLogARB");
+        glGetAttachedObjectsARB = getFunctionAddress(provider, unsupported, 1315, "glGetAttachedObjectsARB");
+        glGetUniformLocationARB = getFunctionAddress(provider, unsupported, 1316, "glGetUniformLocationARB");
+        glGetActiveUniformARB = getFunctionAddress(provider, unsupported, 1317, "glGetActiveUniformARB");
+        glGetUniformfvARB = getFunctionAddress(provider, unsupported, 1318, "glGetUniformfvARB");
+        glGetUniformivARB = getFunctionAddress(provider, unsupported, 1319, "glGetUniformivARB");
+        glGetShaderSourceARB = getFunctionAddress(provider, unsupported, 1320, "glGetShaderSourceARB");
+        glNamedStringARB = getFunctionAddress(provider, unsupported, 1321, "glNamedStringARB");
+        glDeleteNamedStringARB = getFunctionAddress(provider, unsupported, 1322, "glDeleteNamedStringARB");
+        glCompileShaderIncludeARB = getFunctionAddress(provider, unsupported, 1323, "glCompileShaderIncludeARB");
+        glIsNamedStringARB = getFunctionAddress(provider, unsupported, 1324, "glIsNamedStringARB");
+        glGetNamedStringARB = getFunctionAddress(provider, unsupported, 1325, "glGetNamedStringARB");
+        glGetNamedStringivARB = getFunctionAddress(provider, unsupported, 1326, "glGetNamedStringivARB");
+        glBufferPageCommitmentARB = getFunctionAddress(provider, unsupported, 1327, "glBufferPageCommitmentARB");
+        glNamedBufferPageCommitmentEXT = getFunctionAddress(provider, unsupported, 1328, "glNamedBufferPageCommitmentEXT");
+        glNamedBufferPageCommitmentARB = getFunctionAddress(provider, unsupported, 1329, "glNamedBufferPageCommitmentARB");
+        glTexPageCommitmentARB = getFunctionAddress(provider, unsupported, 1330, "glTexPageCommitmentARB");
+        glTexturePageCommitmentEXT = getFunctionAddress(provider, unsupported, 1331, "glTexturePageCommitmentEXT");
+        glTexBufferARB = getFunctionAddress(provider, unsupported, 1332, "glTexBufferARB");
+        glTextureBufferRangeEXT = getFunctionAddress(provider, unsupported, 1333, "glTextureBufferRangeEXT");
+        glCompressedTexImage3DARB = getFunctionAddress(provider, unsupported, 1334, "glCompressedTexImage3DARB");
+        glCompressedTexImage2DARB = getFunctionAddress(provider, unsupported, 1335, "glCompressedTexImage2DARB");
+        glCompressedTexImage1DARB = getFunctionAddress(provider, unsupported, 1336, "glCompressedTexImage1DARB");
+        glCompressedTexSubImage3DARB = getFunctionAddress(provider, unsupported, 1337, "glCompressedTexSubImage3DARB");
+        glCompressedTexSubImage2DARB = getFunctionAddress(provider, unsupported, 1338, "glCompressedTexSubImage2DARB");
+        glCompressedTexSubImage1DARB = getFunctionAddress(provider, unsupported, 1339, "glCompressedTexSubImage1DARB");
+        glGetCompressedTexImageARB = getFunctionAddress(provider, unsupported, 1340, "glGetCompressedTexImageARB");
+        glTextureStorage1DEXT = getFunctionAddress(provider, unsupported, 1341, "glTextureStorage1DEXT");
+        glTextureStorage2DEXT = getFunctionAddress(provider, unsupported, 1342, "glTextureStorage2DEXT");
+        glTextureStorage3DEXT = getFunctionAddress(provider, unsupported, 1343, "glTextureStorage3DEXT");
+        glTextureStorage2DMultisampleEXT = getFunctionAddress(provider, unsupported, 1344, "glTextureStorage2DMultisampleEXT");
+        glTextureStorage3DMultisampleEXT = getFunctionAddress(provider, unsupported, 1345, "glTextureStorage3DMultisampleEXT");
+        glLoadTransposeMatrixfARB = getFunctionAddress(provider, unsupported, 1346, "glLoadTransposeMatrixfARB");
+        glLoadTransposeMatrixdARB = getFunctionAddress(provider, unsupported, 1347, "glLoadTransposeMatrixdARB");
+        glMultTransposeMatrixfARB = getFunctionAddress(provider, unsupported, 1348, "glMultTransposeMatrixfARB");
+        glMultTransposeMatrixdARB = getFunctionAddress(provider, unsupported, 1349, "glMultTransposeMatrixdARB");
+        glVertexArrayVertexAttribLOffsetEXT = getFunctionAddress(provider, unsupported, 1350, "glVertexArrayVertexAttribLOffsetEXT");
+        glVertexArrayBindVertexBufferEXT = getFunctionAddress(provider, unsupported, 1351, "glVertexArrayBindVertexBufferEXT");
+        glVertexArrayVertexAttribFormatEXT = getFunctionAddress(provider, unsupported, 1352, "glVertexArrayVertexAttribFormatEXT");
+        glVertexArrayVertexAttribIFormatEXT = getFunctionAddress(provider, unsupported, 1353, "glVertexArrayVertexAttribIFormatEXT");
+        glVertexArrayVertexAttribLFormatEXT = getFunctionAddress(provider, unsupported, 1354, "glVertexArrayVertexAttribLFormatEXT");
+        glVertexArrayVertexAttribBindingEXT = getFunctionAddress(provider, unsupported, 1355, "glVertexArrayVertexAttribBindingEXT");
+        glVertexArrayVertexBindingDivisorEXT = getFunctionAddress(provider, unsupported, 1356, "glVertexArrayVertexBindingDivisorEXT");
+        glWeightfvARB = getFunctionAddress(provider, unsupported, 1357, "glWeightfvARB");
+        glWeightbvARB = getFunctionAddress(provider, unsupported, 1358, "glWeightbvARB");
+        glWeightubvARB = getFunctionAddress(provider, unsupported, 1359, "glWeightubvARB");
+        glWeightsvARB = getFunctionAddress(provider, unsupported, 1360, "glWeightsvARB");
+        glWeightusvARB = getFunctionAddress(provider, unsupported, 1361, "glWeightusvARB");
+        glWeightivARB = getFunctionAddress(provider, unsupported, 1362, "glWeightivARB");
+        glWeightuivARB = getFunctionAddress(provider, unsupported, 1363, "glWeightuivARB");
+        glWeightdvARB = getFunctionAddress(provider, unsupported, 1364, "glWeightdvARB");
+        glWeightPointerARB = getFunctionAddress(provider, unsupported, 1365, "glWeightPointerARB");
+        glVertexBlendARB = getFunctionAddress(provider, unsupported, 1366, "glVertexBlendARB");
+        glBindBufferARB = getFunctionAddress(provider, unsupported, 1367, "glBindBufferARB");
+        glDeleteBuffersARB = getFunctionAddress(provider, unsupported, 1368, "glDeleteBuffersARB");
+        glGenBuffersARB = getFunctionAddress(provider, unsupported, 1369, "glGenBuffersARB");
+        glIsBufferARB = getFunctionAddress(provider, unsupported, 1370, "glIsBufferARB");
+        glBufferDataARB = getFunctionAddress(provider, unsupported, 1371, "glBufferDataARB");
+        glBufferSubDataARB = getFunctionAddress(provider, unsupported, 1372, "glBufferSubDataARB");
+        glGetBufferSubDataARB = getFunctionAddress(provider, unsupported, 1373, "glGetBufferSubDataARB");
+        glMapBufferARB = getFunctionAddress(provider, unsupported, 1374, "glMapBufferARB");
+        glUnmapBufferARB = getFunctionAddress(provider, unsupported, 1375, "glUnmapBufferARB");
+        glGetBufferParameterivARB = getFunctionAddress(provider, unsupported, 1376, "glGetBufferParameterivARB");
+        glGetBufferPointervARB = getFunctionAddress(provider, unsupported, 1377, "glGetBufferPointervARB");
+        glProgramStringARB = getFunctionAddress(provider, unsupported, 1378, "glProgramStringARB");
+        glBindProgramARB = getFunctionAddress(provider, unsupported, 1379, "glBindProgramARB");
+        glDeleteProgramsARB = getFunctionAddress(provider, unsupported, 1380, "glDeleteProgramsARB");
+        glGenProgramsARB = getFunctionAddress(provider, unsupported, 1381, "glGenProgramsARB");
+        glProgramEnvParameter4dARB = getFunctionAddress(provider, unsupported, 1382, "glProgramEnvParameter4dARB");
+        glProgramEnvParameter4dvARB = getFunctionAddress(provider, unsupported, 1383, "glProgramEnvParameter4dvARB");
+        glProgramEnvParameter4fARB = getFunctionAddress(provider, unsupported, 1384, "glProgramEnvParameter4fARB");
+        glProgramEnvParameter4fvARB = getFunctionAddress(provider, unsupported, 1385, "glProgramEnvParameter4fvARB");
+        glProgramLocalParameter4dARB = getFunctionAddress(provider, unsupported, 1386, "glProgramLocalParameter4dARB");
+        glProgramLocalParameter4dvARB = getFunctionAddress(provider, unsupported, 1387, "glProgramLocalParameter4dvARB");
+        glProgramLocalParameter4fARB = getFunctionAddress(provider, unsupported, 1388, "glProgramLocalParameter4fARB");
+        glProgramLocalParameter4fvARB = getFunctionAddress(provider, unsupported, 1389, "glProgramLocalParameter4fvARB");
+        glGetProgramEnvParameterfvARB = getFunctionAddress(provider, unsupported, 1390, "glGetProgramEnvParameterfvARB");
+        glGetProgramEnvParameterdvARB = getFunctionAddress(provider, unsupported, 1391, "glGetProgramEnvParameterdvARB");
+        glGetProgramLocalParameterfvARB = getFunctionAddress(provider, unsupported, 1392, "glGetProgramLocalParameterfvARB");
+        glGetProgramLocalParameterdvARB = getFunctionAddress(provider, unsupported, 1393, "glGetProgramLocalParameterdvARB");
+        glGetProgramivARB = getFunctionAddress(provider, unsupported, 1394, "glGetProgramivARB");
+        glGetProgramStringARB = getFunctionAddress(provider, unsupported, 1395, "glGetProgramStringARB");
+        glIsProgramARB = getFunctionAddress(provider, unsupported, 1396, "glIsProgramARB");
+        glVertexAttrib1fARB = getFunctionAddress(provider, unsupported, 1397, "glVertexAttrib1fARB");
+        glVertexAttrib1sARB = getFunctionAddress(provider, unsupported, 1398, "glVertexAttrib1sARB");
+        glVertexAttrib1dARB = getFunctionAddress(provider, unsupported, 1399, "glVertexAttrib1dARB");
+        glVertexAttrib2fARB = getFunctionAddress(provider, unsupported, 1400, "glVertexAttrib2fARB");
+        glVertexAttrib2sARB = getFunctionAddress(provider, unsupported, 1401, "glVertexAttrib2sARB");
+        glVertexAttrib2dARB = getFunctionAddress(provider, unsupported, 1402, "glVertexAttrib2dARB");
+        glVertexAttrib3fARB = getFunctionAddress(provider, unsupported, 1403, "glVertexAttrib3fARB");
+        glVertexAttrib3sARB = getFunctionAddress(provider, unsupported, 1404, "glVertexAttrib3sARB");
+        glVertexAttrib3dARB = getFunctionAddress(provider, unsupported, 1405, "glVertexAttrib3dARB");
+        glVertexAttrib4fARB = getFunctionAddress(provider, unsupported, 1406, "glVertexAttrib4fARB");
+        glVertexAttrib4sARB = getFunctionAddress(provider, unsupported, 1407, "glVertexAttrib4sARB");
+        glVertexAttrib4dARB = getFunctionAddress(provider, unsupported, 1408, "glVertexAttrib4dARB");
+        glVertexAttrib4NubARB = getFunctionAddress(provider, unsupported, 1409, "glVertexAttrib4NubARB");
+        glVertexAttrib1fvARB = getFunctionAddress(provider, unsupported, 1410, "glVertexAttrib1fvARB");
+        glVertexAttrib1svARB = getFunctionAddress(provider, unsupported, 1411, "glVertexAttrib1svARB");
+        glVertexAttrib1dvARB = getFunctionAddress(provider, unsupported, 1412, "glVertexAttrib1dvARB");
+        glVertexAttrib2fvARB = getFunctionAddress(provider, unsupported, 1413, "glVertexAttrib2fvARB");
+        glVertexAttrib2svARB = getFunctionAddress(provider, unsupported, 1414, "glVertexAttrib2svARB");
+        glVertexAttrib2dvARB = getFunctionAddress(provider, unsupported, 1415, "glVertexAttrib2dvARB");
+        glVertexAttrib3fvARB = getFunctionAddress(provider, unsupported, 1416, "glVertexAttrib3fvARB");
+        glVertexAttrib3svARB = getFunctionAddress(provider, unsupported, 1417, "glVertexAttrib3svARB");
+        glVertexAttrib3dvARB = getFunctionAddress(provider, unsupported, 1418, "glVertexAttrib3dvARB");
+        glVertexAttrib4fvARB = getFunctionAddress(provider, unsupported, 1419, "glVertexAttrib4fvARB");
+        glVertexAttrib4svARB = getFunctionAddress(provider, unsupported, 1420, "glVertexAttrib4svARB");
+        glVertexAttrib4dvARB = getFunctionAddress(provider, unsupported, 1421, "glVertexAttrib4dvARB");
+        glVertexAttrib4ivARB = getFunctionAddress(provider, unsupported, 1422, "glVertexAttrib4ivARB");
+        glVertexAttrib4bvARB = getFunctionAddress(provider, unsupported, 1423, "glVertexAttrib4bvARB");
+        glVertexAttrib4ubvARB = getFunctionAddress(provider, unsupported, 1424, "glVertexAttrib4ubvARB");
+        glVertexAttrib4usvARB = getFunctionAddress(provider, unsupported, 1425, "glVertexAttrib4usvARB");
+        glVertexAttrib4uivARB = getFunctionAddress(provider, unsupported, 1426, "glVertexAttrib4uivARB");
+        glVertexAttrib4NbvARB = getFunctionAddress(provider, unsupported, 1427, "glVertexAttrib4NbvARB");
+        glVertexAttrib4NsvARB = getFunctionAddress(provider, unsupported, 1428, "glVertexAttrib4NsvARB");
+        glVertexAttrib4NivARB = getFunctionAddress(provider, unsupported, 1429, "glVertexAttrib4NivARB");
+        glVertexAttrib4NubvARB = getFunctionAddress(provider, unsupported, 1430, "glVertexAttrib4NubvARB");
+        glVertexAttrib4NusvARB = getFunctionAddress(provider, unsupported, 1431, "glVertexAttrib4NusvARB");
+        glVertexAttrib4NuivARB = getFunctionAddress(provider, unsupported, 1432, "glVertexAttrib4NuivARB");
+        glVertexAttribPointerARB = getFunctionAddress(provider, unsupported, 1433, "glVertexAttribPointerARB");
+        glEnableVertexAttribArrayARB = getFunctionAddress(provider, unsupported, 1434, "glEnableVertexAttribArrayARB");
+        glDisableVertexAttribArrayARB = getFunctionAddress(provider, unsupported, 1435, "glDisableVertexAttribArrayARB");
+        glBindAttribLocationARB = getFunctionAddress(provider, unsupported, 1436, "glBindAttribLocationARB");
+        glGetActiveAttribARB = getFunctionAddress(provider, unsupported, 1437, "glGetActiveAttribARB");
+        glGetAttribLocationARB = getFunctionAddress(provider, unsupported, 1438, "glGetAttribLocationARB");
+        glGetVertexAttribivARB = getFunctionAddress(provider, unsupported, 1439, "glGetVertexAttribivARB");
+        glGetVertexAttribfvARB = getFunctionAddress(provider, unsupported, 1440, "glGetVertexAttribfvARB");
+        glGetVertexAttribdvARB = getFunctionAddress(provider, unsupported, 1441, "glGetVertexAttribdvARB");
+        glGetVertexAttribPointervARB = getFunctionAddress(provider, unsupported, 1442, "glGetVertexAttribPointervARB");
+        glWindowPos2iARB = getFunctionAddress(provider, unsupported, 1443, "glWindowPos2iARB");
+        glWindowPos2sARB = getFunctionAddress(provider, unsupported, 1444, "glWindowPos2sARB");
+        glWindowPos2fARB = getFunctionAddress(provider, unsupported, 1445, "glWindowPos2fARB");
+        glWindowPos2dARB = getFunctionAddress(provider, unsupported, 1446, "glWindowPos2dARB");
+        glWindowPos2ivARB = getFunctionAddress(provider, unsupported, 1447, "glWindowPos2ivARB");
+        glWindowPos2svARB = getFunctionAddress(provider, unsupported, 1448, "glWindowPos2svARB");
+        glWindowPos2fvARB = getFunctionAddress(provider, unsupported, 1449, "glWindowPos2fvARB");
+        glWindowPos2dvARB = getFunctionAddress(provider, unsupported, 1450, "glWindowPos2dvARB");
+        glWindowPos3iARB = getFunctionAddress(provider, unsupported, 1451, "glWindowPos3iARB");
+        glWindowPos3sARB = getFunctionAddress(provider, unsupported, 1452, "glWindowPos3sARB");
+        glWindowPos3fARB = getFunctionAddress(provider, unsupported, 1453, "glWindowPos3fARB");
+        glWindowPos3dARB = getFunctionAddress(provider, unsupported, 1454, "glWindowPos3dARB");
+        glWindowPos3ivARB = getFunctionAddress(provider, unsupported, 1455, "glWindowPos3ivARB");
+        glWindowPos3svARB = getFunctionAddress(provider, unsupported, 1456, "glWindowPos3svARB");
+        glWindowPos3fvARB = getFunctionAddress(provider, unsupported, 1457, "glWindowPos3fvARB");
+        glWindowPos3dvARB = getFunctionAddress(provider, unsupported, 1458, "glWindowPos3dvARB");
+        glUniformBufferEXT = getFunctionAddress(provider, unsupported, 1459, "glUniformBufferEXT");
+        glGetUniformBufferSizeEXT = getFunctionAddress(provider, unsupported, 1460, "glGetUniformBufferSizeEXT");
+        glGetUniformOffsetEXT = getFunctionAddress(provider, unsupported, 1461, "glGetUniformOffsetEXT");
+        glBlendColorEXT = getFunctionAddress(provider, unsupported, 1462, "glBlendColorEXT");
+        glBlendEquationSeparateEXT = getFunctionAddress(provider, unsupported, 1463, "glBlendEquationSeparateEXT");
+        glBlendFuncSeparateEXT = getFunctionAddress(provider, unsupported, 1464, "glBlendFuncSeparateEXT");
+        glBlendEquationEXT = getFunctionAddress(provider, unsupported, 1465, "glBlendEquationEXT");
+        glLockArraysEXT = getFunctionAddress(provider, unsupported, 1466, "glLockArraysEXT");
+        glUnlockArraysEXT = getFunctionAddress(provider, unsupported, 1467, "glUnlockArraysEXT");
+        glLabelObjectEXT = getFunctionAddress(provider, unsupported, 1468, "glLabelObjectEXT");
+        glGetObjectLabelEXT = getFunctionAddress(provider, unsupported, 1469, "glGetObjectLabelEXT");
+        glInsertEventMarkerEXT = getFunctionAddress(provider, unsupported, 1470, "glInsertEventMarkerEXT");
+        glPushGroupMarkerEXT = getFunctionAddress(provider, unsupported, 1471, "glPushGroupMarkerEXT");
+        glPopGroupMarkerEXT = getFunctionAddress(provider, unsupported, 1472, "glPopGroupMarkerEXT");
+        glDepthBoundsEXT = getFunctionAddress(provider, unsupported, 1473, "glDepthBoundsEXT");
+        glClientAttribDefaultEXT = getFunctionAddress(provider, unsupported, 1474, "glClientAttribDefaultEXT");
+        glPushClientAttribDefaultEXT = getFunctionAddress(provider, unsupported, 1475, "glPushClientAttribDefaultEXT");
+        glMatrixLoadfEXT = getFunctionAddress(provider, unsupported, 1476, "glMatrixLoadfEXT");
+        glMatrixLoaddEXT = getFunctionAddress(provider, unsupported, 1477, "glMatrixLoaddEXT");
+        glMatrixMultfEXT = getFunctionAddress(provider, unsupported, 1478, "glMatrixMultfEXT");
+        glMatrixMultdEXT = getFunctionAddress(provider, unsupported, 1479, "glMatrixMultdEXT");
+        glMatrixLoadIdentityEXT = getFunctionAddress(provider, unsupported, 1480, "glMatrixLoadIdentityEXT");
+        glMatrixRotatefEXT = getFunctionAddress(provider, unsupported, 1481, "glMatrixRotatefEXT");
+        glMatrixRotatedEXT = getFunctionAddress(provider, unsupported, 1482, "glMatrixRotatedEXT");
+        glMatrixScalefEXT = getFunctionAddress(provider, unsupported, 1483, "glMatrixScalefEXT");
+        glMatrixScaledEXT = getFunctionAddress(provider, unsupported, 1484, "glMatrixScaledEXT");
+        glMatrixTranslatefEXT = getFunctionAddress(provider, unsupported, 1485, "glMatrixTranslatefEXT");
+        glMatrixTranslatedEXT = getFunctionAddress(provider, unsupported, 1486, "glMatrixTranslatedEXT");
+        glMatrixOrthoEXT = getFunctionAddress(provider, unsupported, 1487, "glMatrixOrthoEXT");
+        glMatrixFrustumEXT = getFunctionAddress(provider, unsupported, 1488, "glMatrixFrustumEXT");
+        glMatrixPushEXT = getFunctionAddress(provider, unsupported, 1489, "glMatrixPushEXT");
+        glMatrixPopEXT = getFunctionAddress(provider, unsupported, 1490, "glMatrixPopEXT");
+        glTextureParameteriEXT = getFunctionAddress(provider, unsupported, 1491, "glTextureParameteriEXT");
+        glTextureParameterivEXT = getFunctionAddress(provider, unsupported, 1492, "glTextureParameterivEXT");
+        glTextureParameterfEXT = getFunctionAddress(provider, unsupported, 1493, "glTextureParameterfEXT");
+        glTextureParameterfvEXT = getFunctionAddress(provider, unsupported, 1494, "glTextureParameterfvEXT");
+        glTextureImage1DEXT = getFunctionAddress(provider, unsupported, 1495, "glTextureImage1DEXT");
+        glTextureImage2DEXT = getFunctionAddress(provider, unsupported, 1496, "glTextureImage2DEXT");
+        glTextureSubImage1DEXT = getFunctionAddress(provider, unsupported, 1497, "glTextureSubImage1DEXT");
+        glTextureSubImage2DEXT = getFunctionAddress(provider, unsupported, 1498, "glTextureSubImage2DEXT");
+        glCopyTextureImage1DEXT = getFunctionAddress(provider, unsupported, 1499, "glCopyTextureImage1DEXT");
+        glCopyTextureImage2DEXT = getFunctionAddress(provider, unsupported, 1500, "glCopyTextureImage2DEXT");
+        glCopyTextureSubImage1DEXT = getFunctionAddress(provider, unsupported, 1501, "glCopyTextureSubImage1DEXT");
+        glCopyTextureSubImage2DEXT = getFunctionAddress(provider, unsupported, 1502, "glCopyTextureSubImage2DEXT");
+        glGetTextureImageEXT = getFunctionAddress(provider, unsupported, 1503, "glGetTextureImageEXT");
+        glGetTextureParameterfvEXT = getFunctionAddress(provider, unsupported, 1504, "glGetTextureParameterfvEXT");
+        glGetTextureParameterivEXT = getFunctionAddress(provider, unsupported, 1505, "glGetTextureParameterivEXT");
+        glGetTextureLevelParameterfvEXT = getFunctionAddress(provider, unsupported, 1506, "glGetTextureLevelParameterfvEXT");
+        glGetTextureLevelParameterivEXT = getFunctionAddress(provider, unsupported, 1507, "glGetTextureLevelParameterivEXT");
+        glTextureImage3DEXT = getFunctionAddress(provider, unsupported, 1508, "glTextureImage3DEXT");
+        glTextureSubImage3DEXT = getFunctionAddress(provider, unsupported, 1509, "glTextureSubImage3DEXT");
+        glCopyTextureSubImage3DEXT = getFunctionAddress(provider, unsupported, 1510, "glCopyTextureSubImage3DEXT");
+        glBindMultiTextureEXT = getFunctionAddress(provider, unsupported, 1511, "glBindMultiTextureEXT");
+        glMultiTexCoordPointerEXT = getFunctionAddress(provider, unsupported, 1512, "glMultiTexCoordPointerEXT");
+        glMultiTexEnvfEXT = getFunctionAddress(provider, unsupported, 1513, "glMultiTexEnvfEXT");
+        glMultiTexEnvfvEXT = getFunctionAddress(provider, unsupported, 1514, "glMultiTexEnvfvEXT");
+        glMultiTexEnviEXT = getFunctionAddress(provider, unsupported, 1515, "glMultiTexEnviEXT");
+        glMultiTexEnvivEXT = getFunctionAddress(provider, unsupported, 1516, "glMultiTexEnvivEXT");
+        glMultiTexGendEXT = getFunctionAddress(provider, unsupported, 1517, "glMultiTexGendEXT");
+        glMultiTexGendvEXT = getFunctionAddress(provider, unsupported, 1518, "glMultiTexGendvEXT");
+        glMultiTexGenfEXT = getFunctionAddress(provider, unsupported, 1519, "glMultiTexGenfEXT");
+        glMultiTexGenfvEXT = getFunctionAddress(provider, unsupported, 1520, "glMultiTexGenfvEXT");
+        glMultiTexGeniEXT = getFunctionAddress(provider, unsupported, 1521, "glMultiTexGeniEXT");
+        glMultiTexGenivEXT = getFunctionAddress(provider, unsupported, 1522, "glMultiTexGenivEXT");
+        glGetMultiTexEnvfvEXT = getFunctionAddress(provider, unsupported, 1523, "glGetMultiTexEnvfvEXT");
+        glGetMultiTexEnvivEXT = getFunctionAddress(provider, unsupported, 1524, "glGetMultiTexEnvivEXT");
+        glGetMultiTexGendvEXT = getFunctionAddress(provider, unsupported, 1525, "glGetMultiTexGendvEXT");
+        glGetMultiTexGenfvEXT = getFunctionAddress(provider, unsupported, 1526, "glGetMultiTexGenfvEXT");
+        glGetMultiTexGenivEXT = getFunctionAddress(provider, unsupported, 1527, "glGetMultiTexGenivEXT");
+        glMultiTexParameteriEXT = getFunctionAddress(provider, unsupported, 1528, "glMultiTexParameteriEXT");
+        glMultiTexParameterivEXT = getFunctionAddress(provider, unsupported, 1529, "glMultiTexParameterivEXT");
+        glMultiTexParameterfEXT = getFunctionAddress(provider, unsupported, 1530, "glMultiTexParameterfEXT");
+        glMultiTexParameterfvEXT = getFunctionAddress(provider, unsupported, 1531, "glMultiTexParameterfvEXT");
+        glMultiTexImage1DEXT = getFunctionAddress(provider, unsupported, 1532, "glMultiTexImage1DEXT");
+        glMultiTexImage2DEXT = getFunctionAddress(provider, unsupported, 1533, "glMultiTexImage2DEXT");
+        glMultiTexSubImage1DEXT = getFunctionAddress(provider, unsupported, 1534, "glMultiTexSubImage1DEXT");
+        glMultiTexSubImage2DEXT = getFunctionAddress(provider, unsupported, 1535, "glMultiTexSubImage2DEXT");
+        glCopyMultiTexImage1DEXT = getFunctionAddress(provider, unsupported, 1536, "glCopyMultiTexImage1DEXT");
+        glCopyMultiTexImage2DEXT = getFunctionAddress(provider, unsupported, 1537, "glCopyMultiTexImage2DEXT");
+        glCopyMultiTexSubImage1DEXT = getFunctionAddress(provider, unsupported, 1538, "glCopyMultiTexSubImage1DEXT");
+        glCopyMultiTexSubImage2DEXT = getFunctionAddress(provider, unsupported, 1539, "glCopyMultiTexSubImage2DEXT");
+        glGetMultiTexImageEXT = getFunctionAddress(provider, unsupported, 1540, "glGetMultiTexImageEXT");
+        glGetMultiTexParameterfvEXT = getFunctionAddress(provider, unsupported, 1541, "glGetMultiTexParameterfvEXT");
+        glGetMultiTexParameterivEXT = getFunctionAddress(provider, unsupported, 1542, "glGetMultiTexParameterivEXT");
+        glGetMultiTexLevelParameterfvEXT = getFunctionAddress(provider, unsupported, 1543, "glGetMultiTexLevelParameterfvEXT");
+        glGetMultiTexLevelParameterivEXT = getFunctionAddress(provider, unsupported, 1544, "glGetMultiTexLevelParameterivEXT");
+        glMultiTexImage3DEXT = getFunctionAddress(provider, unsupported, 1545, "glMultiTexImage3DEXT");
+        glMultiTexSubImage3DEXT = getFunctionAddress(provider, unsupported, 1546, "glMultiTexSubImage3DEXT");
+        glCopyMultiTexSubImage3DEXT = getFunctionAddress(provider, unsupported, 1547, "glCopyMultiTexSubImage3DEXT");
+        glEnableClientStateIndexedEXT = getFunctionAddress(provider, unsupported, 1548, "glEnableClientStateIndexedEXT");
+        glDisableClientStateIndexedEXT = getFunctionAddress(provider, unsupported, 1549, "glDisableClientStateIndexedEXT");
+        glEnableClientStateiEXT = getFunctionAddress(provider, unsupported, 1550, "glEnableClientStateiEXT");
+        glDisableClientStateiEXT = getFunctionAddress(provider, unsupported, 1551, "glDisableClientStateiEXT");
+        glGetFloatIndexedvEXT = getFunctionAddress(provider, unsupported, 1552, "glGetFloatIndexedvEXT");
+        glGetDoubleIndexedvEXT = getFunctionAddress(provider, unsupported, 1553, "glGetDoubleIndexedvEXT");
+        glGetPointerIndexedvEXT = getFunctionAddress(provider, unsupported, 1554, "glGetPointerIndexedvEXT");
+        glGetFloati_vEXT = getFunctionAddress(provider, unsupported, 1555, "glGetFloati_vEXT");
+        glGetDoublei_vEXT = getFunctionAddress(provider, unsupported, 1556, "glGetDoublei_vEXT");
+        glGetPointeri_vEXT = getFunctionAddress(provider, unsupported, 1557, "glGetPointeri_vEXT");
+        glNamedProgramStringEXT = getFunctionAddress(provider, unsupported, 1558, "glNamedProgramStringEXT");
+        glNamedProgramLocalParameter4dEXT = getFunctionAddress(provider, unsupported, 1559, "glNamedProgramLocalParameter4dEXT");
+        glNamedProgramLocalParameter4dvEXT = getFunctionAddress(provider, unsupported, 1560, "glNamedProgramLocalParameter4dvEXT");
+        glNamedProgramLocalParameter4fEXT = getFunctionAddress(provider, unsupported, 1561, "glNamedProgramLocalParameter4fEXT");
+        glNamedProgramLocalParameter4fvEXT = getFunctionAddress(provider, unsupported, 1562, "glNamedProgramLocalParameter4fvEXT");
+        glGetNamedProgramLocalParameterdvEXT = getFunctionAddress(provider, unsupported, 1563, "glGetNamedProgramLocalParameterdvEXT");
+        glGetNamedProgramLocalParameterfvEXT = getFunctionAddress(provider, unsupported, 1564, "glGetNamedProgramLocalParameterfvEXT");
+        glGetNamedProgramivEXT = getFunctionAddress(provider, unsupported, 1565, "glGetNamedProgramivEXT");
+        glGetNamedProgramStringEXT = getFunctionAddress(provider, unsupported, 1566, "glGetNamedProgramStringEXT");
+        glCompressedTextureImage3DEXT = getFunctionAddress(provider, unsupported, 1567, "glCompressedTextureImage3DEXT");
+        glCompressedTextureImage2DEXT = getFunctionAddress(provider, unsupported, 1568, "glCompressedTextureImage2DEXT");
+        glCompressedTextureImage1DEXT = getFunctionAddress(provider, unsupported, 1569, "glCompressedTextureImage1DEXT");
+        glCompressedTextureSubImage3DEXT = getFunctionAddress(provider, unsupported, 1570, "glCompressedTextureSubImage3DEXT");
+        glCompressedTextureSubImage2DEXT = getFunctionAddress(provider, unsupported, 1571, "glCompressedTextureSubImage2DEXT");
+        glCompressedTextureSubImage1DEXT = getFunctionAddress(provider, unsupported, 1572, "glCompressedTextureSubImage1DEXT");
+        glGetCompressedTextureImageEXT = getFunctionAddress(provider, unsupported, 1573, "glGetCompressedTextureImageEXT");
+        glCompressedMultiTexImage3DEXT = getFunctionAddress(provider, unsupported, 1574, "glCompressedMultiTexImage3DEXT");
+        glCompressedMultiTexImage2DEXT = getFunctionAddress(provider, unsupported, 1575, "glCompressedMultiTexImage2DEXT");
+        glCompressedMultiTexImage1DEXT = getFunctionAddress(provider, unsupported, 1576, "glCompressedMultiTexImage1DEXT");
+        glCompressedMultiTexSubImage3DEXT = getFunctionAddress(provider, unsupported, 1577, "glCompressedMultiTexSubImage3DEXT");
+        glCompressedMultiTexSubImage2DEXT = getFunctionAddress(provider, unsupported, 1578, "glCompressedMultiTexSubImage2DEXT");
+        glCompressedMultiTexSubImage1DEXT = getFunctionAddress(provider, unsupported, 1579, "glCompressedMultiTexSubImage1DEXT");
+        glGetCompressedMultiTexImageEXT = getFunctionAddress(provider, unsupported, 1580, "glGetCompressedMultiTexImageEXT");
+        glMatrixLoadTransposefEXT = getFunctionAddress(provider, unsupported, 1581, "glMatrixLoadTransposefEXT");
+        glMatrixLoadTransposedEXT = getFunctionAddress(provider, unsupported, 1582, "glMatrixLoadTransposedEXT");
+        glMatrixMultTransposefEXT = getFunctionAddress(provider, unsupported, 1583, "glMatrixMultTransposefEXT");
+        glMatrixMultTransposedEXT = getFunctionAddress(provider, unsupported, 1584, "glMatrixMultTransposedEXT");
+        glNamedBufferDataEXT = getFunctionAddress(provider, unsupported, 1585, "glNamedBufferDataEXT");
+        glNamedBufferSubDataEXT = getFunctionAddress(provider, unsupported, 1586, "glNamedBufferSubDataEXT");
+        glMapNamedBufferEXT = getFunctionAddress(provider, unsupported, 1587, "glMapNamedBufferEXT");
+        glUnmapNamedBufferEXT = getFunctionAddress(provider, unsupported, 1588, "glUnmapNamedBufferEXT");
+        glGetNamedBufferParameterivEXT = getFunctionAddress(provider, unsupported, 1589, "glGetNamedBufferParameterivEXT");
+        glGetNamedBufferSubDataEXT = getFunctionAddress(provider, unsupported, 1590, "glGetNamedBufferSubDataEXT");
+        glProgramUniform1fEXT = getFunctionAddress(provider, unsupported, 1591, "glProgramUniform1fEXT");
+        glProgramUniform2fEXT = getFunctionAddress(provider, unsupported, 1592, "glProgramUniform2fEXT");
+        glProgramUniform3fEXT = getFunctionAddress(provider, unsupported, 1593, "glProgramUniform3fEXT");
+        glProgramUniform4fEXT = getFunctionAddress(provider, unsupported, 1594, "glProgramUniform4fEXT");
+        glProgramUniform1iEXT = getFunctionAddress(provider, unsupported, 1595, "glProgramUniform1iEXT");
+        glProgramUniform2iEXT = getFunctionAddress(provider, unsupported, 1596, "glProgramUniform2iEXT");
+        glProgramUniform3iEXT = getFunctionAddress(provider, unsupported, 1597, "glProgramUniform3iEXT");
+        glProgramUniform4iEXT = getFunctionAddress(provider, unsupported, 1598, "glProgramUniform4iEXT");
+        glProgramUniform1fvEXT = getFunctionAddress(provider, unsupported, 1599, "glProgramUniform1fvEXT");
+        glProgramUniform2fvEXT = getFunctionAddress(provider, unsupported, 1600, "glProgramUniform2fvEXT");
+        glProgramUniform3fvEXT = getFunctionAddress(provider, unsupported, 1601, "glProgramUniform3fvEXT");
+        glProgramUniform4fvEXT = getFunctionAddress(provider, unsupported, 1602, "glProgramUniform4fvEXT");
+        glProgramUniform1ivEXT = getFunctionAddress(provider, unsupported, 1603, "glProgramUniform1ivEXT");
+        glProgramUniform2ivEXT = getFunctionAddress(provider, unsupported, 1604, "glProgramUniform2ivEXT");
+        glProgramUniform3ivEXT = getFunctionAddress(provider, unsupported, 1605, "glProgramUniform3ivEXT");
+        glProgramUniform4ivEXT = getFunctionAddress(provider, unsupported, 1606, "glProgramUniform4ivEXT");
+        glProgramUniformMatrix2fvEXT = getFunctionAddress(provider, unsupported, 1607, "glProgramUniformMatrix2fvEXT");
+        glProgramUniformMatrix3fvEXT = getFunctionAddress(provider, unsupported, 1608, "glProgramUniformMatrix3fvEXT");
+        glProgramUniformMatrix4fvEXT = getFunctionAddress(provider, unsupported, 1609, "glProgramUniformMatrix4fvEXT");
+        glProgramUniformMatrix2x3fvEXT = getFunctionAddress(provider, unsupported, 1610, "glProgramUniformMatrix2x3fvEXT");
+        glProgramUniformMatrix3x2fvEXT = getFunctionAddress(provider, unsupported, 1611, "glProgramUniformMatrix3x2fvEXT");
+        glProgramUniformMatrix2x4fvEXT = getFunctionAddress(provider, unsupported, 1612, "glProgramUniformMatrix2x4fvEXT");
+        glProgramUniformMatrix4x2fvEXT = getFunctionAddress(provider, unsupported, 1613, "glProgramUniformMatrix4x2fvEXT");
+        glProgramUniformMatrix3x4fvEXT = getFunctionAddress(provider, unsupported, 1614, "glProgramUniformMatrix3x4fvEXT");
+        glProgramUniformMatrix4x3fvEXT = getFunctionAddress(provider, unsupported, 1615, "glProgramUniformMatrix4x3fvEXT");
+        glTextureBufferEXT = getFunctionAddress(provider, unsupported, 1616, "glTextureBufferEXT");
+        glMultiTexBufferEXT = getFunctionAddress(provider, unsupported, 1617, "glMultiTexBufferEXT");
+        glTextureParameterIivEXT = getFunctionAddress(provider, unsupported, 1618, "glTextureParameterIivEXT");
+        glTextureParameterIuivEXT = getFunctionAddress(provider, unsupported, 1619, "glTextureParameterIuivEXT");
+        glGetTextureParameterIivEXT = getFunctionAddress(provider, unsupported, 1620, "glGetTextureParameterIivEXT");
+        glGetTextureParameterIuivEXT = getFunctionAddress(provider, unsupported, 1621, "glGetTextureParameterIuivEXT");
+        glMultiTexParameterIivEXT = getFunctionAddress(provider, unsupported, 1622, "glMultiTexParameterIivEXT");
+        glMultiTexParameterIuivEXT = getFunctionAddress(provider, unsupported, 1623, "glMultiTexParameterIuivEXT");
+        glGetMultiTexParameterIivEXT = getFunctionAddress(provider, unsupported, 1624, "glGetMultiTexParameterIivEXT");
+        glGetMultiTexParameterIuivEXT = getFunctionAddress(provider, unsupported, 1625, "glGetMultiTexParameterIuivEXT");
+        glProgramUniform1uiEXT = getFunctionAddress(provider, unsupported, 1626, "glProgramUniform1uiEXT");
+        glProgramUniform2uiEXT = getFunctionAddress(provider, unsupported, 1627, "glProgramUniform2uiEXT");
+        glProgramUniform3uiEXT = getFunctionAddress(provider, unsupported, 1628, "glProgramUniform3uiEXT");
+        glProgramUniform4uiEXT = getFunctionAddress(provider, unsupported, 1629, "glProgramUniform4uiEXT");
+        glProgramUniform1uivEXT = getFunctionAddress(provider, unsupported, 1630, "glProgramUniform1uivEXT");
+        glProgramUniform2uivEXT = getFunctionAddress(provider, unsupported, 1631, "glProgramUniform2uivEXT");
+        glProgramUniform3uivEXT = getFunctionAddress(provider, unsupported, 1632, "glProgramUniform3uivEXT");
+        glProgramUniform4uivEXT = getFunctionAddress(provider, unsupported, 1633, "glProgramUniform4uivEXT");
+        glNamedProgramLocalParameters4fvEXT = getFunctionAddress(provider, unsupported, 1634, "glNamedProgramLocalParameters4fvEXT");
+        glNamedProgramLocalParameterI4iEXT = getFunctionAddress(provider, unsupported, 1635, "glNamedProgramLocalParameterI4iEXT");
+        glNamedProgramLocalParameterI4ivEXT = getFunctionAddress(provider, unsupported, 1636, "glNamedProgramLocalParameterI4ivEXT");
+        glNamedProgramLocalParametersI4ivEXT = getFunctionAddress(provider, unsupported, 1637, "glNamedProgramLocalParametersI4ivEXT");
+        glNamedProgramLocalParameterI4uiEXT = getFunctionAddress(provider, unsupported, 1638, "glNamedProgramLocalParameterI4uiEXT");
+        glNamedProgramLocalParameterI4uivEXT = getFunctionAddress(provider, unsupported, 1639, "glNamedProgramLocalParameterI4uivEXT");
+        glNamedProgramLocalParametersI4uivEXT = getFunctionAddress(provider, unsupported, 1640, "glNamedProgramLocalParametersI4uivEXT");
+        glGetNamedProgramLocalParameterIivEXT = getFunctionAddress(provider, unsupported, 1641, "glGetNamedProgramLocalParameterIivEXT");
+        glGetNamedProgramLocalParameterIuivEXT = getFunctionAddress(provider, unsupported, 1642, "glGetNamedProgramLocalParameterIuivEXT");
+        glNamedRenderbufferStorageEXT = getFunctionAddress(provider, unsupported, 1643, "glNamedRenderbufferStorageEXT");
+        glGetNamedRenderbufferParameterivEXT = getFunctionAddress(provider, unsupported, 1644, "glGetNamedRenderbufferParameterivEXT");
+        glNamedRenderbufferStorageMultisampleEXT = getFunctionAddress(provider, unsupported, 1645, "glNamedRenderbufferStorageMultisampleEXT");
+        glNamedRenderbufferStorageMultisampleCoverageEXT = getFunctionAddress(provider, unsupported, 1646, "glNamedRenderbufferStorageMultisampleCoverageEXT");
+        glCheckNamedFramebufferStatusEXT = getFunctionAddress(provider, unsupported, 1647, "glCheckNamedFramebufferStatusEXT");
+        glNamedFramebufferTexture1DEXT = getFunctionAddress(provider, unsupported, 1648, "glNamedFramebufferTexture1DEXT");
+        glNamedFramebufferTexture2DEXT = getFunctionAddress(provider, unsupported, 1649, "glNamedFramebufferTexture2DEXT");
+        glNamedFramebufferTexture3DEXT = getFunctionAddress(provider, unsupported, 1650, "glNamedFramebufferTexture3DEXT");
+        glNamedFramebufferRenderbufferEXT = getFunctionAddress(provider, unsupported, 1651, "glNamedFramebufferRenderbufferEXT");
+        glGetNamedFramebufferAttachmentParameterivEXT = getFunctionAddress(provider, unsupported, 1652, "glGetNamedFramebufferAttachmentParameterivEXT");
+        glGenerateTextureMipmapEXT = getFunctionAddress(provider, unsupported, 1653, "glGenerateTextureMipmapEXT");
+        glGenerateMultiTexMipmapEXT = getFunctionAddress(provider, unsupported, 1654, "glGenerateMultiTexMipmapEXT");
+        glFramebufferDrawBufferEXT = getFunctionAddress(provider, unsupported, 1655, "glFramebufferDrawBufferEXT");
+        glFramebufferDrawBuffersEXT = getFunctionAddress(provider, unsupported, 1656, "glFramebufferDrawBuffersEXT");
+        glFramebufferReadBufferEXT = getFunctionAddress(provider, unsupported, 1657, "glFramebufferReadBufferEXT");
+        glGetFramebufferParameterivEXT = getFunctionAddress(provider, unsupported, 1658, "glGetFramebufferParameterivEXT");
+        glNamedCopyBufferSubDataEXT = getFunctionAddress(provider, unsupported, 1659, "glNamedCopyBufferSubDataEXT");
+        glNamedFramebufferTextureEXT = getFunctionAddress(provider, unsupported, 1660, "glNamedFramebufferTextureEXT");
+        glNamedFramebufferTextureLayerEXT = getFunctionAddress(provider, unsupported, 1661, "glNamedFramebufferTextureLayerEXT");
+        glNamedFramebufferTextureFaceEXT = getFunctionAddress(provider, unsupported, 1662, "glNamedFramebufferTextureFaceEXT");
+        glTextureRenderbufferEXT = getFunctionAddress(provider, unsupported, 1663, "glTextureRenderbufferEXT");
+        glMultiTexRenderbufferEXT = getFunctionAddress(provider, unsupported, 1664, "glMultiTexRenderbufferEXT");
+        glVertexArrayVertexOffsetEXT = getFunctionAddress(provider, unsupported, 1665, "glVertexArrayVertexOffsetEXT");
+        glVertexArrayColorOffsetEXT = getFunctionAddress(provider, unsupported, 1666, "glVertexArrayColorOffsetEXT");
+        glVertexArrayEdgeFlagOffsetEXT = getFunctionAddress(provider, unsupported, 1667, "glVertexArrayEdgeFlagOffsetEXT");
+        glVertexArrayIndexOffsetEXT = getFunctionAddress(provider, unsupported, 1668, "glVertexArrayIndexOffsetEXT");
+        glVertexArrayNormalOffsetEXT = getFunctionAddress(provider, unsupported, 1669, "glVertexArrayNormalOffsetEXT");
+        glVertexArrayTexCoordOffsetEXT = getFunctionAddress(provider, unsupported, 1670, "glVertexArrayTexCoordOffsetEXT");
+        glVertexArrayMultiTexCoordOffsetEXT = getFunctionAddress(provider, unsupported, 1671, "glVertexArrayMultiTexCoordOffsetEXT");
+        glVertexArrayFogCoordOffsetEXT = getFunctionAddress(provider, unsupported, 1672, "glVertexArrayFogCoordOffsetEXT");
+        glVertexArraySecondaryColorOffsetEXT = getFunctionAddress(provider, unsupported, 1673, "glVertexArraySecondaryColorOffsetEXT");
+        glVertexArrayVertexAttribOffsetEXT = getFunctionAddress(provider, unsupported, 1674, "glVertexArrayVertexAttribOffsetEXT");
+        glVertexArrayVertexAttribIOffsetEXT = getFunctionAddress(provider, unsupported, 1675, "glVertexArrayVertexAttribIOffsetEXT");
+        glEnableVertexArrayEXT = getFunctionAddress(provider, unsupported, 1676, "glEnableVertexArrayEXT");
+        glDisableVertexArrayEXT = getFunctionAddress(provider, unsupported, 1677, "glDisableVertexArrayEXT");
+        glEnableVertexArrayAttribEXT = getFunctionAddress(provider, unsupported, 1678, "glEnableVertexArrayAttribEXT");
+        glDisableVertexArrayAttribEXT = getFunctionAddress(provider, unsupported, 1679, "glDisableVertexArrayAttribEXT");
+        glGetVertexArrayIntegervEXT = getFunctionAddress(provider, unsupported, 1680, "glGetVertexArrayIntegervEXT");
+        glGetVertexArrayPointervEXT = getFunctionAddress(provider, unsupported, 1681, "glGetVertexArrayPointervEXT");
+        glGetVertexArrayIntegeri_vEXT = getFunctionAddress(provider, unsupported, 1682, "glGetVertexArrayIntegeri_vEXT");
+        glGetVertexArrayPointeri_vEXT = getFunctionAddress(provider, unsupported, 1683, "glGetVertexArrayPointeri_vEXT");
+        glMapNamedBufferRangeEXT = getFunctionAddress(provider, unsupported, 1684, "glMapNamedBufferRangeEXT");
+        glFlushMappedNamedBufferRangeEXT = getFunctionAddress(provider, unsupported, 1685, "glFlushMappedNamedBufferRangeEXT");
+        glColorMaskIndexedEXT = getFunctionAddress(provider, unsupported, 1686, "glColorMaskIndexedEXT");
+        glGetBooleanIndexedvEXT = getFunctionAddress(provider, unsupported, 1687, "glGetBooleanIndexedvEXT");
+        glGetIntegerIndexedvEXT = getFunctionAddress(provider, unsupported, 1688, "glGetIntegerIndexedvEXT");
+        glEnableIndexedEXT = getFunctionAddress(provider, unsupported, 1689, "glEnableIndexedEXT");
+        glDisableIndexedEXT = getFunctionAddress(provider, unsupported, 1690, "glDisableIndexedEXT");
+        glIsEnabledIndexedEXT = getFunctionAddress(provider, unsupported, 1691, "glIsEnabledIndexedEXT");
+        glDrawArraysInstancedEXT = getFunctionAddress(provider, unsupported, 1692, "glDrawArraysInstancedEXT");
+        glDrawElementsInstancedEXT = getFunctionAddress(provider, unsupported, 1693, "glDrawElementsInstancedEXT");
+        glEGLImageTargetTexStorageEXT = getFunctionAddress(provider, unsupported, 1694, "glEGLImageTargetTexStorageEXT");
+        glEGLImageTargetTextureStorageEXT = getFunctionAddress(provider, unsupported, 1695, "glEGLImageTargetTextureStorageEXT");
+        glBufferStorageExternalEXT = getFunctionAddress(provider, unsupported, 1696, "glBufferStorageExternalEXT");
+        glNamedBufferStorageExternalEXT = getFunctionAddress(provider, unsupported, 1697, "glNamedBufferStorageExternalEXT");
+        glBlitFramebufferEXT = getFunctionAddress(provider, unsupported, 1698, "glBlitFramebufferEXT");
+        glRenderbufferStorageMultisampleEXT = getFunctionAddress(provider, unsupported, 1699, "glRenderbufferStorageMultisampleEXT");
+        glIsRenderbufferEXT = getFunctionAddress(provider, unsupported, 1700, "glIsRenderbufferEXT");
+        glBindRenderbufferEXT = getFunctionAddress(provider, unsupported, 1701, "glBindRenderbufferEXT");
+        glDeleteRenderbuffersEXT = getFunctionAddress(provider, unsupported, 1702, "glDeleteRenderbuffersEXT");
+        glGenRenderbuffersEXT = getFunctionAddress(provider, unsupported, 1703, "glGenRenderbuffersEXT");
+        glRenderbufferStorageEXT = getFunctionAddress(provider, unsupported, 1704, "glRenderbufferStorageEXT");
+        glGetRenderbufferParameterivEXT = getFunctionAddress(provider, unsupported, 1705, "glGetRenderbufferParameterivEXT");
+        glIsFramebufferEXT = getFunctionAddress(provider, unsupported, 1706, "glIsFramebufferEXT");
+        glBindFramebufferEXT = getFunctionAddress(provider, unsupported, 1707, "glBindFramebufferEXT");
+        glDeleteFramebuffersEXT = getFunctionAddress(provider, unsupported, 1708, "glDeleteFramebuffersEXT");
+        glGenFramebuffersEXT = getFunctionAddress(provider, unsupported, 1709, "glGenFramebuffersEXT");
+        glCheckFramebufferStatusEXT = getFunctionAddress(provider, unsupported, 1710, "glCheckFramebufferStatusEXT");
+        glFramebufferTexture1DEXT = getFunctionAddress(provider, unsupported, 1711, "glFramebufferTexture1DEXT");
+        glFramebufferTexture2DEXT = getFunctionAddress(provider, unsupported, 1712, "glFramebufferTexture2DEXT");
+        glFramebufferTexture3DEXT = getFunctionAddress(provider, unsupported, 1713, "glFramebufferTexture3DEXT");
+        glFramebufferRenderbufferEXT = getFunctionAddress(provider, unsupported, 1714, "glFramebufferRenderbufferEXT");
+        glGetFramebufferAttachmentParameterivEXT = getFunctionAddress(provider, unsupported, 1715, "glGetFramebufferAttachmentParameterivEXT");
+        glGenerateMipmapEXT = getFunctionAddress(provider, unsupported, 1716, "glGenerateMipmapEXT");
+        glProgramParameteriEXT = getFunctionAddress(provider, unsupported, 1717, "glProgramParameteriEXT");
+        glFramebufferTextureEXT = getFunctionAddress(provider, unsupported, 1718, "glFramebufferTextureEXT");
+        glFramebufferTextureFaceEXT = getFunctionAddress(provider, unsupported, 1719, "glFramebufferTextureFaceEXT");
+        glProgramEnvParameters4fvEXT = getFunctionAddress(provider, unsupported, 1720, "glProgramEnvParameters4fvEXT");
+        glProgramLocalParameters4fvEXT = getFunctionAddress(provider, unsupported, 1721, "glProgramLocalParameters4fvEXT");
+        glVertexAttribI1iEXT = getFunctionAddress(provider, unsupported, 1722, "glVertexAttribI1iEXT");
+        glVertexAttribI2iEXT = getFunctionAddress(provider, unsupported, 1723, "glVertexAttribI2iEXT");
+        glVertexAttribI3iEXT = getFunctionAddress(provider, unsupported, 1724, "glVertexAttribI3iEXT");
+        glVertexAttribI4iEXT = getFunctionAddress(provider, unsupported, 1725, "glVertexAttribI4iEXT");
+        glVertexAttribI1uiEXT = getFunctionAddress(provider, unsupported, 1726, "glVertexAttribI1uiEXT");
+        glVertexAttribI2uiEXT = getFunctionAddress(provider, unsupported, 1727, "glVertexAttribI2uiEXT");
+        glVertexAttribI3uiEXT = getFunctionAddress(provider, unsupported, 1728, "glVertexAttribI3uiEXT");
+        glVertexAttribI4uiEXT = getFunctionAddress(provider, unsupported, 1729, "glVertexAttribI4uiEXT");
+        glVertexAttribI1ivEXT = getFunctionAddress(provider, unsupported, 1730, "glVertexAttribI1ivEXT");
+        glVertexAttribI2ivEXT = getFunctionAddress(provider, unsupported, 1731, "glVertexAttribI2ivEXT");
+        glVertexAttribI3ivEXT = getFunctionAddress(provider, unsupported, 1732, "glVertexAttribI3ivEXT");
+        glVertexAttribI4ivEXT = getFunctionAddress(provider, unsupported, 1733, "glVertexAttribI4ivEXT");
+        glVertexAttribI1uivEXT = getFunctionAddress(provider, unsupported, 1734, "glVertexAttribI1uivEXT");
+        glVertexAttribI2uivEXT = getFunctionAddress(provider, unsupported, 1735, "glVertexAttribI2uivEXT");
+        glVertexAttribI3uivEXT = getFunctionAddress(provider, unsupported, 1736, "glVertexAttribI3uivEXT");
+        glVertexAttribI4uivEXT = getFunctionAddress(provider, unsupported, 1737, "glVertexAttribI4uivEXT");
+        glVertexAttribI4bvEXT = getFunctionAddress(provider, unsupported, 1738, "glVertexAttribI4bvEXT");
+        glVertexAttribI4svEXT = getFunctionAddress(provider, unsupported, 1739, "glVertexAttribI4svEXT");
+        glVertexAttribI4ubvEXT = getFunctionAddress(provider, unsupported, 1740, "glVertexAttribI4ubvEXT");
+        glVertexAttribI4usvEXT = getFunctionAddress(provider, unsupported, 1741, "glVertexAttribI4usvEXT");
+        glVertexAttribIPointerEXT = getFunctionAddress(provider, unsupported, 1742, "glVertexAttribIPointerEXT");
+        glGetVertexAttribIivEXT = getFunctionAddress(provider, unsupported, 1743, "glGetVertexAttribIivEXT");
+        glGetVertexAttribIuivEXT = getFunctionAddress(provider, unsupported, 1744, "glGetVertexAttribIuivEXT");
+        glGetUniformuivEXT = getFunctionAddress(provider, unsupported, 1745, "glGetUniformuivEXT");
+        glBindFragDataLocationEXT = getFunctionAddress(provider, unsupported, 1746, "glBindFragDataLocationEXT");
+        glGetFragDataLocationEXT = getFunctionAddress(provider, unsupported, 1747, "glGetFragDataLocationEXT");
+        glUniform1uiEXT = getFunctionAddress(provider, unsupported, 1748, "glUniform1uiEXT");
+        glUniform2uiEXT = getFunctionAddress(provider, unsupported, 1749, "glUniform2uiEXT");
+        glUniform3uiEXT = getFunctionAddress(provider, unsupported, 1750, "glUniform3uiEXT");
+        glUniform4uiEXT = getFunctionAddress(provider, unsupported, 1751, "glUniform4uiEXT");
+        glUniform1uivEXT = getFunctionAddress(provider, unsupported, 1752, "glUniform1uivEXT");
+        glUniform2uivEXT = getFunctionAddress(provider, unsupported, 1753, "glUniform2uivEXT");
+        glUniform3uivEXT = getFunctionAddress(provider, unsupported, 1754, "glUniform3uivEXT");
+        glUniform4uivEXT = getFunctionAddress(provider, unsupported, 1755, "glUniform4uivEXT");
+        glGetUnsignedBytevEXT = getFunctionAddress(provider, unsupported, 1756, "glGetUnsignedBytevEXT");
+        glGetUnsignedBytei_vEXT = getFunctionAddress(provider, unsupported, 1757, "glGetUnsignedBytei_vEXT");
+        glDeleteMemoryObjectsEXT = getFunctionAddress(provider, unsupported, 1758, "glDeleteMemoryObjectsEXT");
+        glIsMemoryObjectEXT = getFunctionAddress(provider, unsupported, 1759, "glIsMemoryObjectEXT");
+        glCreateMemoryObjectsEXT = getFunctionAddress(provider, unsupported, 1760, "glCreateMemoryObjectsEXT");
+        glMemoryObjectParameterivEXT = getFunctionAddress(provider, unsupported, 1761, "glMemoryObjectParameterivEXT");
+        glGetMemoryObjectParameterivEXT = getFunctionAddress(provider, unsupported, 1762, "glGetMemoryObjectParameterivEXT");
+        glTexStorageMem2DEXT = getFunctionAddress(provider, unsupported, 1763, "glTexStorageMem2DEXT");
+        glTexStorageMem2DMultisampleEXT = getFunctionAddress(provider, unsupported, 1764, "glTexStorageMem2DMultisampleEXT");
+        glTexStorageMem3DEXT = getFunctionAddress(provider, unsupported, 1765, "glTexStorageMem3DEXT");
+        glTexStorageMem3DMultisampleEXT = getFunctionAddress(provider, unsupported, 1766, "glTexStorageMem3DMultisampleEXT");
+        glBufferStorageMemEXT = getFunctionAddress(provider, unsupported, 1767, "glBufferStorageMemEXT");
+        glTextureStorageMem2DEXT = getFunctionAddress(provider, unsupported, 1768, "glTextureStorageMem2DEXT");
+        glTextureStorageMem2DMultisampleEXT = getFunctionAddress(provider, unsupported, 1769, "glTextureStorageMem2DMultisampleEXT");
+        glTextureStorageMem3DEXT = getFunctionAddress(provider, unsupported, 1770, "glTextureStorageMem3DEXT");
+        glTextureStorageMem3DMultisampleEXT = getFunctionAddress(provider, unsupported, 1771, "glTextureStorageMem3DMultisampleEXT");
+        glNamedBufferStorageMemEXT = getFunctionAddress(provider, unsupported, 1772, "glNamedBufferStorageMemEXT");
+        glTexStorageMem1DEXT = getFunctionAddress(provider, unsupported, 1773, "glTexStorageMem1DEXT");
+        glTextureStorageMem1DEXT = getFunctionAddress(provider, unsupported, 1774, "glTextureStorageMem1DEXT");
+        glImportMemoryFdEXT = getFunctionAddress(provider, unsupported, 1775, "glImportMemoryFdEXT");
+        glImportMemoryWin32HandleEXT = getFunctionAddress(provider, unsupported, 1776, "glImportMemoryWin32HandleEXT");
+        glImportMemoryWin32NameEXT = getFunctionAddress(provider, unsupported, 1777, "glImportMemoryWin32NameEXT");
+        glPointParameterfEXT = getFunctionAddress(provider, unsupported, 1778, "glPointParameterfEXT");
+        glPointParameterfvEXT = getFunctionAddress(provider, unsupported, 1779, "glPointParameterfvEXT");
+        glPolygonOffsetClampEXT = getFunctionAddress(provider, unsupported, 1780, "glPolygonOffsetClampEXT");
+        glProvokingVertexEXT = getFunctionAddress(provider, unsupported, 1781, "glProvokingVertexEXT");
+        glRasterSamplesEXT = getFunctionAddress(provider, unsupported, 1782, "glRasterSamplesEXT");
+        glSecondaryColor3bEXT = getFunctionAddress(provider, unsupported, 1783, "glSecondaryColor3bEXT");
+        glSecondaryColor3sEXT = getFunctionAddress(provider, unsupported, 1784, "glSecondaryColor3sEXT");
+        glSecondaryColor3iEXT = getFunctionAddress(provider, unsupported, 1785, "glSecondaryColor3iEXT");
+        glSecondaryColor3fEXT = getFunctionAddress(provider, unsupported, 1786, "glSecondaryColor3fEXT");
+        glSecondaryColor3dEXT = getFunctionAddress(provider, unsupported, 1787, "glSecondaryColor3dEXT");
+        glSecondaryColor3ubEXT = getFunctionAddress(provider, unsupported, 1788, "glSecondaryColor3ubEXT");
+        glSecondaryColor3usEXT = getFunctionAddress(provider, unsupported, 1789, "glSecondaryColor3usEXT");
+        glSecondaryColor3uiEXT = getFunctionAddress(provider, unsupported, 1790, "glSecondaryColor3uiEXT");
+        glSecondaryColor3bvEXT = getFunctionAddress(provider, unsupported, 1791, "glSecondaryColor3bvEXT");
+        glSecondaryColor3svEXT = getFunctionAddress(provider, unsupported, 1792, "glSecondaryColor3svEXT");
+        glSecondaryColor3ivEXT = getFunctionAddress(provider, unsupported, 1793, "glSecondaryColor3ivEXT");
+        glSecondaryColor3fvEXT = getFunctionAddress(provider, unsupported, 1794, "glSecondaryColor3fvEXT");
+        glSecondaryColor3dvEXT = getFunctionAddress(provider, unsupported, 1795, "glSecondaryColor3dvEXT");
+        glSecondaryColor3ubvEXT = getFunctionAddress(provider, unsupported, 1796, "glSecondaryColor3ubvEXT");
+        glSecondaryColor3usvEXT = getFunctionAddress(provider, unsupported, 1797, "glSecondaryColor3usvEXT");
+        glSecondaryColor3uivEXT = getFunctionAddress(provider, unsupported, 1798, "glSecondaryColor3uivEXT");
+        glSecondaryColorPointerEXT = getFunctionAddress(provider, unsupported, 1799, "glSecondaryColorPointerEXT");
+        glGenSemaphoresEXT = getFunctionAddress(provider, unsupported, 1800, "glGenSemaphoresEXT");
+        glDeleteSemaphoresEXT = getFunctionAddress(provider, unsupported, 1801, "glDeleteSemaphoresEXT");
+        glIsSemaphoreEXT = getFunctionAddress(provider, unsupported, 1802, "glIsSemaphoreEXT");
+        glSemaphoreParameterui64vEXT = getFunctionAddress(provider, unsupported, 1803, "glSemaphoreParameterui64vEXT");
+        glGetSemaphoreParameterui64vEXT = getFunctionAddress(provider, unsupported, 1804, "glGetSemaphoreParameterui64vEXT");
+        glWaitSemaphoreEXT = getFunctionAddress(provider, unsupported, 1805, "glWaitSemaphoreEXT");
+        glSignalSemaphoreEXT = getFunctionAddress(provider, unsupported, 1806, "glSignalSemaphoreEXT");
+        glImportSemaphoreFdEXT = getFunctionAddress(provider, unsupported, 1807, "glImportSemaphoreFdEXT");
+        glImportSemaphoreWin32HandleEXT = getFunctionAddress(provider, unsupported, 1808, "glImportSemaphoreWin32HandleEXT");
+        glImportSemaphoreWin32NameEXT = getFunctionAddress(provider, unsupported, 1809, "glImportSemaphoreWin32NameEXT");
+        glUseShaderProgramEXT = getFunctionAddress(provider, unsupported, 1810, "glUseShaderProgramEXT");
+        glActiveProgramEXT = getFunctionAddress(provider, unsupported, 1811, "glActiveProgramEXT");
+        glCreateShaderProgramEXT = getFunctionAddress(provider, unsupported, 1812, "glCreateShaderProgramEXT");
+        glFramebufferFetchBarrierEXT = getFunctionAddress(provider, unsupported, 1813, "glFramebufferFetchBarrierEXT");
+        glBindImageTextureEXT = getFunctionAddress(provider, unsupported, 1814, "glBindImageTextureEXT");
+        glMemoryBarrierEXT = getFunctionAddress(provider, unsupported, 1815, "glMemoryBarrierEXT");
+        glStencilClearTagEXT = getFunctionAddress(provider, unsupported, 1816, "glStencilClearTagEXT");
+        glActiveStencilFaceEXT = getFunctionAddress(provider, unsupported, 1817, "glActiveStencilFaceEXT");
+        glFramebufferTextureLayerEXT = getFunctionAddress(provider, unsupported, 1818, "glFramebufferTextureLayerEXT");
+        glTexBufferEXT = getFunctionAddress(provider, unsupported, 1819, "glTexBufferEXT");
+        glClearColorIiEXT = getFunctionAddress(provider, unsupported, 1820, "glClearColorIiEXT");
+        glClearColorIuiEXT = getFunctionAddress(provider, unsupported, 1821, "glClearColorIuiEXT");
+        glTexParameterIivEXT = getFunctionAddress(provider, unsupported, 1822, "glTexParameterIivEXT");
+        glTexParameterIuivEXT = getFunctionAddress(provider, unsupported, 1823, "glTexParameterIuivEXT");
+        glGetTexParameterIivEXT = getFunctionAddress(provider, unsupported, 1824, "glGetTexParameterIivEXT");
+        glGetTexParameterIuivEXT = getFunctionAddress(provider, unsupported, 1825, "glGetTexParameterIuivEXT");
+        glGetQueryObjecti64vEXT = getFunctionAddress(provider, unsupported, 1826, "glGetQueryObjecti64vEXT");
+        glGetQueryObjectui64vEXT = getFunctionAddress(provider, unsupported, 1827, "glGetQueryObjectui64vEXT");
+        glBindBufferRangeEXT = getFunctionAddress(provider, unsupported, 1828, "glBindBufferRangeEXT");
+        glBindBufferOffsetEXT = getFunctionAddress(provider, unsupported, 1829, "glBindBufferOffsetEXT");
+        glBindBufferBaseEXT = getFunctionAddress(provider, unsupported, 1830, "glBindBufferBaseEXT");
+        glBeginTransformFeedbackEXT = getFunctionAddress(provider, unsupported, 1831, "glBeginTransformFeedbackEXT");
+        glEndTransformFeedbackEXT = getFunctionAddress(provider, unsupported, 1832, "glEndTransformFeedbackEXT");
+        glTransformFeedbackVaryingsEXT = getFunctionAddress(provider, unsupported, 1833, "glTransformFeedbackVaryingsEXT");
+        glGetTransformFeedbackVaryingEXT = getFunctionAddress(provider, unsupported, 1834, "glGetTransformFeedbackVaryingEXT");
+        glVertexAttribL1dEXT = getFunctionAddress(provider, unsupported, 1835, "glVertexAttribL1dEXT");
+        glVertexAttribL2dEXT = getFunctionAddress(provider, unsupported, 1836, "glVertexAttribL2dEXT");
+        glVertexAttribL3dEXT = getFunctionAddress(provider, unsupported, 1837, "glVertexAttribL3dEXT");
+        glVertexAttribL4dEXT = getFunctionAddress(provider, unsupported, 1838, "glVertexAttribL4dEXT");
+        glVertexAttribL1dvEXT = getFunctionAddress(provider, unsupported, 1839, "glVertexAttribL1dvEXT");
+        glVertexAttribL2dvEXT = getFunctionAddress(provider, unsupported, 1840, "glVertexAttribL2dvEXT");
+        glVertexAttribL3dvEXT = getFunctionAddress(provider, unsupported, 1841, "glVertexAttribL3dvEXT");
+        glVertexAttribL4dvEXT = getFunctionAddress(provider, unsupported, 1842, "glVertexAttribL4dvEXT");
+        glVertexAttribLPointerEXT = getFunctionAddress(provider, unsupported, 1843, "glVertexAttribLPointerEXT");
+        glGetVertexAttribLdvEXT = getFunctionAddress(provider, unsupported, 1844, "glGetVertexAttribLdvEXT");
+        glAcquireKeyedMutexWin32EXT = getFunctionAddress(provider, unsupported, 1845, "glAcquireKeyedMutexWin32EXT");
+        glReleaseKeyedMutexWin32EXT = getFunctionAddress(provider, unsupported, 1846, "glReleaseKeyedMutexWin32EXT");
+        glWindowRectanglesEXT = getFunctionAddress(provider, unsupported, 1847, "glWindowRectanglesEXT");
+        glImportSyncEXT = getFunctionAddress(provider, unsupported, 1848, "glImportSyncEXT");
+        glFrameTerminatorGREMEDY = getFunctionAddress(provider, unsupported, 1849, "glFrameTerminatorGREMEDY");
+        glStringMarkerGREMEDY = getFunctionAddress(provider, unsupported, 1850, "glStringMarkerGREMEDY");
+        glApplyFramebufferAttachmentCMAAINTEL = getFunctionAddress(provider, unsupported, 1851, "glApplyFramebufferAttachmentCMAAINTEL");
+        glSyncTextureINTEL = getFunctionAddress(provider, unsupported, 1852, "glSyncTextureINTEL");
+        glUnmapTexture2DINTEL = getFunctionAddress(provider, unsupported, 1853, "glUnmapTexture2DINTEL");
+        glMapTexture2DINTEL = getFunctionAddress(provider, unsupported, 1854, "glMapTexture2DINTEL");
+        glBeginPerfQueryINTEL = getFunctionAddress(provider, unsupported, 1855, "glBeginPerfQueryINTEL");
+        glCreatePerfQueryINTEL = getFunctionAddress(provider, unsupported, 1856, "glCreatePerfQueryINTEL");
+        glDeletePerfQueryINTEL = getFunctionAddress(provider, unsupported, 1857, "glDeletePerfQueryINTEL");
+        glEndPerfQueryINTEL = getFunctionAddress(provider, unsupported, 1858, "glEndPerfQueryINTEL");
+        glGetFirstPerfQueryIdINTEL = getFunctionAddress(provider, unsupported, 1859, "glGetFirstPerfQueryIdINTEL");
+        glGetNextPerfQueryIdINTEL = getFunctionAddress(provider, unsupported, 1860, "glGetNextPerfQueryIdINTEL");
+        glGetPerfCounterInfoINTEL = getFunctionAddress(provider, unsupported, 1861, "glGetPerfCounterInfoINTEL");
+        glGetPerfQueryDataINTEL = getFunctionAddress(provider, unsupported, 1862, "glGetPerfQueryDataINTEL");
+        glGetPerfQueryIdByNameINTEL = getFunctionAddress(provider, unsupported, 1863, "glGetPerfQueryIdByNameINTEL");
+        glGetPerfQueryInfoINTEL = getFunctionAddress(provider, unsupported, 1864, "glGetPerfQueryInfoINTEL");
+        glBlendBarrierKHR = getFunctionAddress(provider, unsupported, 1865, "glBlendBarrierKHR");
+        glMaxShaderCompilerThreadsKHR = getFunctionAddress(provider, unsupported, 1866, "glMaxShaderCompilerThreadsKHR");
+        glAlphaToCoverageDitherControlNV = getFunctionAddress(provider, unsupported, 1867, "glAlphaToCoverageDitherControlNV");
+        glMultiDrawArraysIndirectBindlessNV = getFunctionAddress(provider, unsupported, 1868, "glMultiDrawArraysIndirectBindlessNV");
+        glMultiDrawElementsIndirectBindlessNV = getFunctionAddress(provider, unsupported, 1869, "glMultiDrawElementsIndirectBindlessNV");
+        glMultiDrawArraysIndirectBindlessCountNV = getFunctionAddress(provider, unsupported, 1870, "glMultiDrawArraysIndirectBindlessCountNV");
+        glMultiDrawElementsIndirectBindlessCountNV = getFunctionAddress(provider, unsupported, 1871, "glMultiDrawElementsIndirectBindlessCountNV");
+        glGetTextureHandleNV = getFunctionAddress(provider, unsupported, 1872, "glGetTextureHandleNV");
+        glGetTextureSamplerHandleNV = getFunctionAddress(provider, unsupported, 1873, "glGetTextureSamplerHandleNV");
+        glMakeTextureHandleResidentNV = getFunctionAddress(provider, unsupported, 1874, "glMakeTextureHandleResidentNV");
+        glMakeTextureHandleNonResidentNV = getFunctionAddress(provider, unsupported, 1875, "glMakeTextureHandleNonResidentNV");
+        glGetImageHandleNV = getFunctionAddress(provider, unsupported, 1876, "glGetImageHandleNV");
+        glMakeImageHandleResidentNV = getFunctionAddress(provider, unsupported, 1877, "glMakeImageHandleResidentNV");
+        glMakeImageHandleNonResidentNV = getFunctionAddress(provider, unsupported, 1878, "glMakeImageHandleNonResidentNV");
+        glUniformHandleui64NV = getFunctionAddress(provider, unsupported, 1879, "glUniformHandleui64NV");
+        glUniformHandleui64vNV = getFunctionAddress(provider, unsupported, 1880, "glUniformHandleui64vNV");
+        glProgramUniformHandleui64NV = getFunctionAddress(provider, unsupported, 1881, "glProgramUniformHandleui64NV");
+        glProgramUniformHandleui64vNV = getFunctionAddress(provider, unsupported, 1882, "glProgramUniformHandleui64vNV");
+        glIsTextureHandleResidentNV = getFunctionAddress(provider, unsupported, 1883, "glIsTextureHandleResidentNV");
+        glIsImageHandleResidentNV = getFunctionAddress(provider, unsupported, 1884, "glIsImageHandleResidentNV");
+        glBlendParameteriNV = getFunctionAddress(provider, unsupported, 1885, "glBlendParameteriNV");
+        glBlendBarrierNV = getFunctionAddress(provider, unsupported, 1886, "glBlendBarrierNV");
+        glViewportPositionWScaleNV = getFunctionAddress(provider, unsupported, 1887, "glViewportPositionWScaleNV");
+        glCreateStatesNV = getFunctionAddress(provider, unsupported, 1888, "glCreateStatesNV");
+        glDeleteStatesNV = getFunctionAddress(provider, unsupported, 1889, "glDeleteStatesNV");
+        glIsStateNV = getFunctionAddress(provider, unsupported, 1890, "glIsStateNV");
+        glStateCaptureNV = getFunctionAddress(provider, unsupported, 1891, "glStateCaptureNV");
+        glGetCommandHeaderNV = getFunctionAddress(provider, unsupported, 1892, "glGetCommandHeaderNV");
+        glGetStageIndexNV = getFunctionAddress(provider, unsupported, 1893, "glGetStageIndexNV");
+        glDrawCommandsNV = getFunctionAddress(provider, unsupported, 1894, "glDrawCommandsNV");
+        glDrawCommandsAddressNV = getFunctionAddress(provider, unsupported, 1895, "glDrawCommandsAddressNV");
+        glDrawCommandsStatesNV = getFunctionAddress(provider, unsupported, 1896, "glDrawCommandsStatesNV");
+        glDrawCommandsStatesAddressNV = getFunctionAddress(provider, unsupported, 1897, "glDrawCommandsStatesAddressNV");
+        glCreateCommandListsNV = getFunctionAddress(provider, unsupported, 1898, "glCreateCommandListsNV");
+        glDeleteCommandListsNV = getFunctionAddress(provider, unsupported, 1899, "glDeleteCommandListsNV");
+        glIsCommandListNV = getFunctionAddress(provider, unsupported, 1900, "glIsCommandListNV");
+        glListDrawCommandsStatesClientNV = getFunctionAddress(provider, unsupported, 1901, "glListDrawCommandsStatesClientNV");
+        glCommandListSegmentsNV = getFunctionAddress(provider, unsupported, 1902, "glCommandListSegmentsNV");
+        glCompileCommandListNV = getFunctionAddress(provider, unsupported, 1903, "glCompileCommandListNV");
+        glCallCommandListNV = getFunctionAddress(provider, unsupported, 1904, "glCallCommandListNV");
+        glBeginConditionalRenderNV = getFunctionAddress(provider, unsupported, 1905, "glBeginConditionalRenderNV");
+        glEndConditionalRenderNV = getFunctionAddress(provider, unsupported, 1906, "glEndConditionalRenderNV");
+        glSubpixelPrecisionBiasNV = getFunctionAddress(provider, unsupported, 1907, "glSubpixelPrecisionBiasNV");
+        glConservativeRasterParameterfNV = getFunctionAddress(provider, unsupported, 1908, "glConservativeRasterParameterfNV");
+        glConservativeRasterParameteriNV = getFunctionAddress(provider, unsupported, 1909, "glConservativeRasterParameteriNV");
+        glCopyImageSubDataNV = getFunctionAddress(provider, unsupported, 1910, "glCopyImageSubDataNV");
+        glDepthRangedNV = getFunctionAddress(provider, unsupported, 1911, "glDepthRangedNV");
+        glClearDepthdNV = getFunctionAddress(provider, unsupported, 1912, "glClearDepthdNV");
+        glDepthBoundsdNV = getFunctionAddress(provider, unsupported, 1913, "glDepthBoundsdNV");
+        glDrawTextureNV = getFunctionAddress(provider, unsupported, 1914, "glDrawTextureNV");
+        glDrawVkImageNV = getFunctionAddress(provider, unsupported, 1915, "glDrawVkImageNV");
+        glGetVkProcAddrNV = getFunctionAddress(provider, unsupported, 1916, "glGetVkProcAddrNV");
+        glWaitVkSemaphoreNV = getFunctionAddress(provider, unsupported, 1917, "glWaitVkSemaphoreNV");
+        glSignalVkSemaphoreNV = getFunctionAddress(provider, unsupported, 1918, "glSignalVkSemaphoreNV");
+        glSignalVkFenceNV = getFunctionAddress(provider, unsupported, 1919, "glSignalVkFenceNV");
+        glGetMultisamplefvNV = getFunctionAddress(provider, unsupported, 1920, "glGetMultisamplefvNV");
+        glSampleMaskIndexedNV = getFunctionAddress(provider, unsupported, 1921, "glSampleMaskIndexedNV");
+        glTexRenderbufferNV = getFunctionAddress(provider, unsupported, 1922, "glTexRenderbufferNV");
+        glDeleteFencesNV = getFunctionAddress(provider, unsupported, 1923, "glDeleteFencesNV");
+        glGenFencesNV = getFunctionAddress(provider, unsupported, 1924, "glGenFencesNV");
+        glIsFenceNV = getFunctionAddress(provider, unsupported, 1925, "glIsFenceNV");
+        glTestFenceNV = getFunctionAddress(provider, unsupported, 1926, "glTestFenceNV");
+        glGetFenceivNV = getFunctionAddress(provider, unsupported, 1927, "glGetFenceivNV");
+        glFinishFenceNV = getFunctionAddress(provider, unsupported, 1928, "glFinishFenceNV");
+        glSetFenceNV = getFunctionAddress(provider, unsupported, 1929, "glSetFenceNV");
+        glFragmentCoverageColorNV = getFunctionAddress(provider, unsupported, 1930, "glFragmentCoverageColorNV");
+        glCoverageModulationTableNV = getFunctionAddress(provider, unsupported, 1931, "glCoverageModulationTableNV");
+        glGetCoverageModulationTableNV = getFunctionAddress(provider, unsupported, 1932, "glGetCoverageModulationTableNV");
+        glCoverageModulationNV = getFunctionAddress(provider, unsupported, 1933, "glCoverageModulationNV");
+        glRenderbufferStorageMultisampleCoverageNV = getFunctionAddress(provider, unsupported, 1934, "glRenderbufferStorageMultisampleCoverageNV");
+        glRenderGpuMaskNV = getFunctionAddress(provider, unsupported, 1935, "glRenderGpuMaskNV");
+        glMulticastBufferSubDataNV = getFunctionAddress(provider, unsupported, 1936, "glMulticastBufferSubDataNV");
+        glMulticastCopyBufferSubDataNV = getFunctionAddress(provider, unsupported, 1937, "glMulticastCopyBufferSubDataNV");
+        glMulticastCopyImageSubDataNV = getFunctionAddress(provider, unsupported, 1938, "glMulticastCopyImageSubDataNV");
+        glMulticastBlitFramebufferNV = getFunctionAddress(provider, unsupported, 1939, "glMulticastBlitFramebufferNV");
+        glMulticastFramebufferSampleLocationsfvNV = getFunctionAddress(provider, unsupported, 1940, "glMulticastFramebufferSampleLocationsfvNV");
+        glMulticastBarrierNV = getFunctionAddress(provider, unsupported, 1941, "glMulticastBarrierNV");
+        glMulticastWaitSyncNV = getFunctionAddress(provider, unsupported, 1942, "glMulticastWaitSyncNV");
+        glMulticastGetQueryObjectivNV = getFunctionAddress(provider, unsupported, 1943, "glMulticastGetQueryObjectivNV");
+        glMulticastGetQueryObjectuivNV = getFunctionAddress(provider, unsupported, 1944, "glMulticastGetQueryObjectuivNV");
+        glMulticastGetQueryObjecti64vNV = getFunctionAddress(provider, unsupported, 1945, "glMulticastGetQueryObjecti64vNV");
+        glMulticastGetQueryObjectui64vNV = getFunctionAddress(provider, unsupported, 1946, "glMulticastGetQueryObjectui64vNV");
+        glUniform1i64NV = getFunctionAddress(provider, unsupported, 1947, "glUniform1i64NV");
+        glUniform2i64NV = getFunctionAddress(provider, unsupported, 1948, "glUniform2i64NV");
+        glUniform3i64NV = getFunctionAddress(provider, unsupported, 1949, "glUniform3i64NV");
+        glUniform4i64NV = getFunctionAddress(provider, unsupported, 1950, "glUniform4i64NV");
+        glUniform1i64vNV = getFunctionAddress(provider, unsupported, 1951, "glUniform1i64vNV");
+        glUniform2i64vNV = getFunctionAddress(provider, unsupported, 1952, "glUniform2i64vNV");
+        glUniform3i64vNV = getFunctionAddress(provider, unsupported, 1953, "glUniform3i64vNV");
+        glUniform4i64vNV = getFunctionAddress(provider, unsupported, 1954, "glUniform4i64vNV");
+        glUniform1ui64NV = getFunctionAddress(provider, unsupported, 1955, "glUniform1ui64NV");
+        glUniform2ui64NV = getFunctionAddress(provider, unsupported, 1956, "glUniform2ui64NV");
+        glUniform3ui64NV = getFunctionAddress(provider, unsupported, 1957, "glUniform3ui64NV");
+        glUniform4ui64NV = getFunctionAddress(provider, unsupported, 1958, "glUniform4ui64NV");
+        glUniform1ui64vNV = getFunctionAddress(provider, unsupported, 1959, "glUniform1ui64vNV");
+        glUniform2ui64vNV = getFunctionAddress(provider, unsupported, 1960, "glUniform2ui64vNV");
+        glUniform3ui64vNV = getFunctionAddress(provider, unsupported, 1961, "glUniform3ui64vNV");
+        glUniform4ui64vNV = getFunctionAddress(provider, unsupported, 1962, "glUniform4ui64vNV");
+        glGetUniformi64vNV = getFunctionAddress(provider, unsupported, 1963, "glGetUniformi64vNV");
+        glProgramUniform1i64NV = getFunctionAddress(provider, unsupported, 1964, "glProgramUniform1i64NV");
+        glProgramUniform2i64NV = getFunctionAddress(provider, unsupported, 1965, "glProgramUniform2i64NV");
+        glProgramUniform3i64NV = getFunctionAddress(provider, unsupported, 1966, "glProgramUniform3i64NV");
+        glProgramUniform4i64NV = getFunctionAddress(provider, unsupported, 1967, "glProgramUniform4i64NV");
+        glProgramUniform1i64vNV = getFunctionAddress(provider, unsupported, 1968, "glProgramUniform1i64vNV");
+        glProgramUniform2i64vNV = getFunctionAddress(provider, unsupported, 1969, "glProgramUniform2i64vNV");
+        glProgramUniform3i64vNV = getFunctionAddress(provider, unsupported, 1970, "glProgramUniform3i64vNV");
+        glProgramUniform4i64vNV = getFunctionAddress(provider, unsupported, 1971, "glProgramUniform4i64vNV");
+        glProgramUniform1ui64NV = getFunctionAddress(provider, unsupported, 1972, "glProgramUniform1ui64NV");
+        glProgramUniform2ui64NV = getFunctionAddress(provider, unsupported, 1973, "glProgramUniform2ui64NV");
+        glProgramUniform3ui64NV = getFunctionAddress(provider, unsupported, 1974, "glProgramUniform3ui64NV");
+        glProgramUniform4ui64NV = getFunctionAddress(provider, unsupported, 1975, "glProgramUniform4ui64NV");
+        glProgramUniform1ui64vNV = getFunctionAddress(provider, unsupported, 1976, "glProgramUniform1ui64vNV");
+        glProgramUniform2ui64vNV = getFunctionAddress(provider, unsupported, 1977, "glProgramUniform2ui64vNV");
+        glProgramUniform3ui64vNV = getFunctionAddress(provider, unsupported, 1978, "glProgramUniform3ui64vNV");
+        glProgramUniform4ui64vNV = getFunctionAddress(provider, unsupported, 1979, "glProgramUniform4ui64vNV");
+        glVertex2hNV = getFunctionAddress(provider, unsupported, 1980, "glVertex2hNV");
+        glVertex2hvNV = getFunctionAddress(provider, unsupported, 1981, "glVertex2hvNV");
+        glVertex3hNV = getFunctionAddress(provider, unsupported, 1982, "glVertex3hNV");
+        glVertex3hvNV = getFunctionAddress(provider, unsupported, 1983, "glVertex3hvNV");
+        glVertex4hNV = getFunctionAddress(provider, unsupported, 1984, "glVertex4hNV");
+        glVertex4hvNV = getFunctionAddress(provider, unsupported, 1985, "glVertex4hvNV");
+        glNormal3hNV = getFunctionAddress(provider, unsupported, 1986, "glNormal3hNV");
+        glNormal3hvNV = getFunctionAddress(provider, unsupported, 1987, "glNormal3hvNV");
+        glColor3hNV = getFunctionAddress(provider, unsupported, 1988, "glColor3hNV");
+        glColor3hvNV = getFunctionAddress(provider, unsupported, 1989, "glColor3hvNV");
+        glColor4hNV = getFunctionAddress(provider, unsupported, 1990, "glColor4hNV");
+        glColor4hvNV = getFunctionAddress(provider, unsupported, 1991, "glColor4hvNV");
+        glTexCoord1hNV = getFunctionAddress(provider, unsupported, 1992, "glTexCoord1hNV");
+        glTexCoord1hvNV = getFunctionAddress(provider, unsupported, 1993, "glTexCoord1hvNV");
+        glTexCoord2hNV = getFunctionAddress(provider, unsupported, 1994, "glTexCoord2hNV");
+        glTexCoord2hvNV = getFunctionAddress(provider, unsupported, 1995, "glTexCoord2hvNV");
+        glTexCoord3hNV = getFunctionAddress(provider, unsupported, 1996, "glTexCoord3hNV");
+        glTexCoord3hvNV = getFunctionAddress(provider, unsupported, 1997, "glTexCoord3hvNV");
+        glTexCoord4hNV = getFunctionAddress(provider, unsupported, 1998, "glTexCoord4hNV");
+        glTexCoord4hvNV = getFunctionAddress(provider, unsupported, 1999, "glTexCoord4hvNV");
+        glMultiTexCoord1hNV = getFunctionAddress(provider, unsupported, 2000, "glMultiTexCoord1hNV");
+        glMultiTexCoord1hvNV = getFunctionAddress(provider, unsupported, 2001, "glMultiTexCoord1hvNV");
+        glMultiTexCoord2hNV = getFunctionAddress(provider, unsupported, 2002, "glMultiTexCoord2hNV");
+        glMultiTexCoord2hvNV = getFunctionAddress(provider, unsupported, 2003, "glMultiTexCoord2hvNV");
+        glMultiTexCoord3hNV = getFunctionAddress(provider, unsupported, 2004, "glMultiTexCoord3hNV");
+        glMultiTexCoord3hvNV = getFunctionAddress(provider, unsupported, 2005, "glMultiTexCoord3hvNV");
+        glMultiTexCoord4hNV = getFunctionAddress(provider, unsupported, 2006, "glMultiTexCoord4hNV");
+        glMultiTexCoord4hvNV = getFunctionAddress(provider, unsupported, 2007, "glMultiTexCoord4hvNV");
+        glFogCoordhNV = getFunctionAddress(provider, unsupported, 2008, "glFogCoordhNV");
+        glFogCoordhvNV = getFunctionAddress(provider, unsupported, 2009, "glFogCoordhvNV");
+        glSecondaryColor3hNV = getFunctionAddress(provider, unsupported, 2010, "glSecondaryColor3hNV");
+        glSecondaryColor3hvNV = getFunctionAddress(provider, unsupported, 2011, "glSecondaryColor3hvNV");
+        glVertexWeighthNV = getFunctionAddress(provider, unsupported, 2012, "glVertexWeighthNV");
+        glVertexWeighthvNV = getFunctionAddress(provider, unsupported, 2013, "glVertexWeighthvNV");
+        glVertexAttrib1hNV = getFunctionAddress(provider, unsupported, 2014, "glVertexAttrib1hNV");
+        glVertexAttrib1hvNV = getFunctionAddress(provider, unsupported, 2015, "glVertexAttrib1hvNV");
+        glVertexAttrib2hNV = getFunctionAddress(provider, unsupported, 2016, "glVertexAttrib2hNV");
+        glVertexAttrib2hvNV = getFunctionAddress(provider, unsupported, 2017, "glVertexAttrib2hvNV");
+        glVertexAttrib3hNV = getFunctionAddress(provider, unsupported, 2018, "glVertexAttrib3hNV");
+        glVertexAttrib3hvNV = getFunctionAddress(provider, unsupported, 2019, "glVertexAttrib3hvNV");
+        glVertexAttrib4hNV = getFunctionAddress(provider, unsupported, 2020, "glVertexAttrib4hNV");
+        glVertexAttrib4hvNV = getFunctionAddress(provider, unsupported, 2021, "glVertexAttrib4hvNV");
+        glVertexAttribs1hvNV = getFunctionAddress(provider, unsupported, 2022, "glVertexAttribs1hvNV");
+        glVertexAttribs2hvNV = getFunctionAddress(provider, unsupported, 2023, "glVertexAttribs2hvNV");
+        glVertexAttribs3hvNV = getFunctionAddress(provider, unsupported, 2024, "glVertexAttribs3hvNV");
+        glVertexAttribs4hvNV = getFunctionAddress(provider, unsupported, 2025, "glVertexAttribs4hvNV");
+        glGetInternalformatSampleivNV = getFunctionAddress(provider, unsupported, 2026, "glGetInternalformatSampleivNV");
+        glGetMemoryObjectDetachedResourcesuivNV = getFunctionAddress(provider, unsupported, 2027, "glGetMemoryObjectDetachedResourcesuivNV");
+        glResetMemoryObjectParameterNV = getFunctionAddress(provider, unsupported, 2028, "glResetMemoryObjectParameterNV");
+        glTexAttachMemoryNV = getFunctionAddress(provider, unsupported, 2029, "glTexAttachMemoryNV");
+        glBufferAttachMemoryNV = getFunctionAddress(provider, unsupported, 2030, "glBufferAttachMemoryNV");
+        glTextureAttachMemoryNV = getFunctionAddress(provider, unsupported, 2031, "glTextureAttachMemoryNV");
+        glNamedBufferAttachMemoryNV = getFunctionAddress(provider, unsupported, 2032, "glNamedBufferAttachMemoryNV");
+        glDrawMeshTasksNV = getFunctionAddress(provider, unsupported, 2033, "glDrawMeshTasksNV");
+        glDrawMeshTasksIndirectNV = getFunctionAddress(provider, unsupported, 2034, "glDrawMeshTasksIndirectNV");
+        glMultiDrawMeshTasksIndirectNV = getFunctionAddress(provider, unsupported, 2035, "glMultiDrawMeshTasksIndirectNV");
+        glMultiDrawMeshTasksIndirectCountNV = getFunctionAddress(provider, unsupported, 2036, "glMultiDrawMeshTasksIndirectCountNV");
+        glPathCommandsNV = getFunctionAddress(provider, unsupported, 2037, "glPathCommandsNV");
+        glPathCoordsNV = getFunctionAddress(provider, unsupported, 2038, "glPathCoordsNV");
+        glPathSubCommandsNV = getFunctionAddress(provider, unsupported, 2039, "glPathSubCommandsNV");
+        glPathSubCoordsNV = getFunctionAddress(provider, unsupported, 2040, "glPathSubCoordsNV");
+        glPathStringNV = getFunctionAddress(provider, unsupported, 2041, "glPathStringNV");
+        glPathGlyphsNV = getFunctionAddress(provider, unsupported, 2042, "glPathGlyphsNV");
+        glPathGlyphRangeNV = getFunctionAddress(provider, unsupported, 2043, "glPathGlyphRangeNV");
+        glPathGlyphIndexArrayNV = getFunctionAddress(provider, unsupported, 2044, "glPathGlyphIndexArrayNV");
+        glPathMemoryGlyphIndexArrayNV = getFunctionAddress(provider, unsupported, 2045, "glPathMemoryGlyphIndexArrayNV");
+        glCopyPathNV = getFunctionAddress(provider, unsupported, 2046, "glCopyPathNV");
+        glWeightPathsNV = getFunctionAddress(provider, unsupported, 2047, "glWeightPathsNV");
+        glInterpolatePathsNV = getFunctionAddress(provider, unsupported, 2048, "glInterpolatePathsNV");
+        glTransformPathNV = getFunctionAddress(provider, unsupported, 2049, "glTransformPathNV");
+        glPathParameterivNV = getFunctionAddress(provider, unsupported, 2050, "glPathParameterivNV");
+        glPathParameteriNV = getFunctionAddress(provider, unsupported, 2051, "glPathParameteriNV");
+        glPathParameterfvNV = getFunctionAddress(provider, unsupported, 2052, "glPathParameterfvNV");
+        glPathParameterfNV = getFunctionAddress(provider, unsupported, 2053, "glPathParameterfNV");
+        glPathDashArrayNV = getFunctionAddress(provider, unsupported, 2054, "glPathDashArrayNV");
+        glGenPathsNV = getFunctionAddress(provider, unsupported, 2055, "glGenPathsNV");
+        glDeletePathsNV = getFunctionAddress(provider, unsupported, 2056, "glDeletePathsNV");
+        glIsPathNV = getFunctionAddress(provider, unsupported, 2057, "glIsPathNV");
+        glPathStencilFuncNV = getFunctionAddress(provider, unsupported, 2058, "glPathStencilFuncNV");
+        glPathStencilDepthOffsetNV = getFunctionAddress(provider, unsupported, 2059, "glPathStencilDepthOffsetNV");
+        glStencilFillPathNV = getFunctionAddress(provider, unsupported, 2060, "glStencilFillPathNV");
+        glStencilStrokePathNV = getFunctionAddress(provider, unsupported, 2061, "glStencilStrokePathNV");
+        glStencilFillPathInstancedNV = getFunctionAddress(provider, unsupported, 2062, "glStencilFillPathInstancedNV");
+        glStencilStrokePathInstancedNV = getFunctionAddress(provider, unsupported, 2063, "glStencilStrokePathInstancedNV");
+        glPathCoverDepthFuncNV = getFunctionAddress(provider, unsupported, 2064, "glPathCoverDepthFuncNV");
+        glPathColorGenNV = getFunctionAddress(provider, unsupported, 2065, "glPathColorGenNV");
+        glPathTexGenNV = getFunctionAddress(provider, unsupported, 2066, "glPathTexGenNV");
+        glPathFogGenNV = getFunctionAddress(provider, unsupported, 2067, "glPathFogGenNV");
+        glCoverFillPathNV = getFunctionAddress(provider, unsupported, 2068, "glCoverFillPathNV");
+        glCoverStrokePathNV = getFunctionAddress(provider, unsupported, 2069, "glCoverStrokePathNV");
+        glCoverFillPathInstancedNV = getFunctionAddress(provider, unsupported, 2070, "glCoverFillPathInstancedNV");
+        glCoverStrokePathInstancedNV = getFunctionAddress(provider, unsupported, 2071, "glCoverStrokePathInstancedNV");
+        glStencilThenCoverFillPathNV = getFunctionAddress(provider, unsupported, 2072, "glStencilThenCoverFillPathNV");
+        glStencilThenCoverStrokePathNV = getFunctionAddress(provider, unsupported, 2073, "glStencilThenCoverStrokePathNV");
+        glStencilThenCoverFillPathInstancedNV = getFunctionAddress(provider, unsupported, 2074, "glStencilThenCoverFillPathInstancedNV");
+        glStencilThenCoverStrokePathInstancedNV = getFunctionAddress(provider, unsupported, 2075, "glStencilThenCoverStrokePathInstancedNV");
+        glPathGlyphIndexRangeNV = getFunctionAddress(provider, unsupported, 2076, "glPathGlyphIndexRangeNV");
+        glProgramPathFragmentInputGenNV = getFunctionAddress(provider, unsupported, 2077, "glProgramPathFragmentInputGenNV");
+        glGetPathParameterivNV = getFunctionAddress(provider, unsupported, 2078, "glGetPathParameterivNV");
+        glGetPathParameterfvNV = getFunctionAddress(provider, unsupported, 2079, "glGetPathParameterfvNV");
+        glGetPathCommandsNV = getFunctionAddress(provider, unsupported, 2080, "glGetPathCommandsNV");
+        glGetPathCoordsNV = getFunctionAddress(provider, unsupported, 2081, "glGetPathCoordsNV");
+        glGetPathDashArrayNV = getFunctionAddress(provider, unsupported, 2082, "glGetPathDashArrayNV");
+        glGetPathMetricsNV = getFunctionAddress(provider, unsupported, 2083, "glGetPathMetricsNV");
+        glGetPathMetricRangeNV = getFunctionAddress(provider, unsupported, 2084, "glGetPathMetricRangeNV");
+        glGetPathSpacingNV = getFunctionAddress(provider, unsupported, 2085, "glGetPathSpacingNV");
+        glGetPathColorGenivNV = getFunctionAddress(provider, unsupported, 2086, "glGetPathColorGenivNV");
+        glGetPathColorGenfvNV = getFunctionAddress(provider, unsupported, 2087, "glGetPathColorGenfvNV");
+        glGetPathTexGenivNV = getFunctionAddress(provider, unsupported, 2088, "glGetPathTexGenivNV");
+        glGetPathTexGenfvNV = getFunctionAddress(provider, unsupported, 2089, "glGetPathTexGenfvNV");
+        glIsPointInFillPathNV = getFunctionAddress(provider, unsupported, 2090, "glIsPointInFillPathNV");
+        glIsPointInStrokePathNV = getFunctionAddress(provider, unsupported, 2091, "glIsPointInStrokePathNV");
+        glGetPathLengthNV = getFunctionAddress(provider, unsupported, 2092, "glGetPathLengthNV");
+        glPointAlongPathNV = getFunctionAddress(provider, unsupported, 2093, "glPointAlongPathNV");
+        glMatrixLoad3x2fNV = getFunctionAddress(provider, unsupported, 2094, "glMatrixLoad3x2fNV");
+        glMatrixLoad3x3fNV = getFunctionAddress(provider, unsupported, 2095, "glMatrixLoad3x3fNV");
+        glMatrixLoadTranspose3x3fNV = getFunctionAddress(provider, unsupported, 2096, "glMatrixLoadTranspose3x3fNV");
+        glMatrixMult3x2fNV = getFunctionAddress(provider, unsupported, 2097, "glMatrixMult3x2fNV");
+        glMatrixMult3x3fNV = getFunctionAddress(provider, unsupported, 2098, "glMatrixMult3x3fNV");
+        glMatrixMultTranspose3x3fNV = getFunctionAddress(provider, unsupported, 2099, "glMatrixMultTranspose3x3fNV");
+        glGetProgramResourcefvNV = getFunctionAddress(provider, unsupported, 2100, "glGetProgramResourcefvNV");
+        glPixelDataRangeNV = getFunctionAddress(provider, unsupported, 2101, "glPixelDataRangeNV");
+        glFlushPixelDataRangeNV = getFunctionAddress(provider, unsupported, 2102, "glFlushPixelDataRangeNV");
+        glPointParameteriNV = getFunctionAddress(provider, unsupported, 2103, "glPointParameteriNV");
+        glPointParameterivNV = getFunctionAddress(provider, unsupported, 2104, "glPointParameterivNV");
+        glPrimitiveRestartNV = getFunctionAddress(provider, unsupported, 2105, "glPrimitiveRestartNV");
+        glPrimitiveRestartIndexNV = getFunctionAddress(provider, unsupported, 2106, "glPrimitiveRestartIndexNV");
+        glQueryResourceNV = getFunctionAddress(provider, unsupported, 2107, "glQueryResourceNV");
+        glGenQueryResourceTagNV = getFunctionAddress(provider, unsupported, 2108, "glGenQueryResourceTagNV");
+        glDeleteQueryResourceTagNV = getFunctionAddress(provider, unsupported, 2109, "glDeleteQueryResourceTagNV");
+        glQueryResourceTagNV = getFunctionAddress(provider, unsupported, 2110, "glQueryResourceTagNV");
+        glFramebufferSampleLocationsfvNV = getFunctionAddress(provider, unsupported, 2111, "glFramebufferSampleLocationsfvNV");
+        glNamedFramebufferSampleLocationsfvNV = getFunctionAddress(provider, unsupported, 2112, "glNamedFramebufferSampleLocationsfvNV");
+        glResolveDepthValuesNV = getFunctionAddress(provider, unsupported, 2113, "glResolveDepthValuesNV");
+        glScissorExclusiveArrayvNV = getFunctionAddress(provider, unsupported, 2114, "glScissorExclusiveArrayvNV");
+        glScissorExclusiveNV = getFunctionAddress(provider, unsupported, 2115, "glScissorExclusiveNV");
+        glMakeBufferResidentNV = getFunctionAddress(provider, unsupported, 2116, "glMakeBufferResidentNV");
+        glMakeBufferNonResidentNV = getFunctionAddress(provider, unsupported, 2117, "glMakeBufferNonResidentNV");
+        glIsBufferResidentNV = getFunctionAddress(provider, unsupported, 2118, "glIsBufferResidentNV");
+        glMakeNamedBufferResidentNV = getFunctionAddress(provider, unsupported, 2119, "glMakeNamedBufferResidentNV");
+        glMakeNamedBufferNonResidentNV = getFunctionAddress(provider, unsupported, 2120, "glMakeNamedBufferNonResidentNV");
+        glIsNamedBufferResidentNV = getFunctionAddress(provider, unsupported, 2121, "glIsNamedBufferResidentNV");
+        glGetBufferParameterui64vNV = getFunctionAddress(provider, unsupported, 2122, "glGetBufferParameterui64vNV");
+        glGetNamedBufferParameterui64vNV = getFunctionAddress(provider, unsupported, 2123, "glGetNamedBufferParameterui64vNV");
+        glGetIntegerui64vNV = getFunctionAddress(provider, unsupported, 2124, "glGetIntegerui64vNV");
+        glUniformui64NV = getFunctionAddress(provider, unsupported, 2125, "glUniformui64NV");
+        glUniformui64vNV = getFunctionAddress(provider, unsupported, 2126, "glUniformui64vNV");
+        glGetUniformui64vNV = getFunctionAddress(provider, unsupported, 2127, "glGetUniformui64vNV");
+        glProgramUniformui64NV = getFunctionAddress(provider, unsupported, 2128, "glProgramUniformui64NV");
+        glProgramUniformui64vNV = getFunctionAddress(provider, unsupported, 2129, "glProgramUniformui64vNV");
+        glBindShadingRateImageNV = getFunctionAddress(provider, unsupported, 2130, "glBindShadingRateImageNV");
+        glShadingRateImagePaletteNV = getFunctionAddress(provider, unsupported, 2131, "glShadingRateImagePaletteNV");
+        glGetShadingRateImagePaletteNV = getFunctionAddress(provider, unsupported, 2132, "glGetShadingRateImagePaletteNV");
+        glShadingRateImageBarrierNV = getFunctionAddress(provider, unsupported, 2133, "glShadingRateImageBarrierNV");
+        glShadingRateSampleOrderNV = getFunctionAddress(provider, unsupported, 2134, "glShadingRateSampleOrderNV");
+        glShadingRateSampleOrderCustomNV = getFunctionAddress(provider, unsupported, 2135, "glShadingRateSampleOrderCustomNV");
+        glGetShadingRateSampleLocationivNV = getFunctionAddress(provider, unsupported, 2136, "glGetShadingRateSampleLocationivNV");
+        glTextureBarrierNV = getFunctionAddress(provider, unsupported, 2137, "glTextureBarrierNV");
+        glTexImage2DMultisampleCoverageNV = getFunctionAddress(provider, unsupported, 2138, "glTexImage2DMultisampleCoverageNV");
+        glTexImage3DMultisampleCoverageNV = getFunctionAddress(provider, unsupported, 2139, "glTexImage3DMultisampleCoverageNV");
+        glTextureImage2DMultisampleNV = getFunctionAddress(provider, unsupported, 2140, "glTextureImage2DMultisampleNV");
+        glTextureImage3DMultisampleNV = getFunctionAddress(provider, unsupported, 2141, "glTextureImage3DMultisampleNV");
+        glTextureImage2DMultisampleCoverageNV = getFunctionAddress(provider, unsupported, 2142, "glTextureImage2DMultisampleCoverageNV");
+        glTextureImage3DMultisampleCoverageNV = getFunctionAddress(provider, unsupported, 2143, "glTextureImage3DMultisampleCoverageNV");
+        glBeginTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2144, "glBeginTransformFeedbackNV");
+        glEndTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2145, "glEndTransformFeedbackNV");
+        glTransformFeedbackAttribsNV = getFunctionAddress(provider, unsupported, 2146, "glTransformFeedbackAttribsNV");
+        glBindBufferRangeNV = getFunctionAddress(provider, unsupported, 2147, "glBindBufferRangeNV");
+        glBindBufferOffsetNV = getFunctionAddress(provider, unsupported, 2148, "glBindBufferOffsetNV");
+        glBindBufferBaseNV = getFunctionAddress(provider, unsupported, 2149, "glBindBufferBaseNV");
+        glTransformFeedbackVaryingsNV = getFunctionAddress(provider, unsupported, 2150, "glTransformFeedbackVaryingsNV");
+        glActiveVaryingNV = getFunctionAddress(provider, unsupported, 2151, "glActiveVaryingNV");
+        glGetVaryingLocationNV = getFunctionAddress(provider, unsupported, 2152, "glGetVaryingLocationNV");
+        glGetActiveVaryingNV = getFunctionAddress(provider, unsupported, 2153, "glGetActiveVaryingNV");
+        glGetTransformFeedbackVaryingNV = getFunctionAddress(provider, unsupported, 2154, "glGetTransformFeedbackVaryingNV");
+        glTransformFeedbackStreamAttribsNV = getFunctionAddress(provider, unsupported, 2155, "glTransformFeedbackStreamAttribsNV");
+        glBindTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2156, "glBindTransformFeedbackNV");
+        glDeleteTransformFeedbacksNV = getFunctionAddress(provider, unsupported, 2157, "glDeleteTransformFeedbacksNV");
+        glGenTransformFeedbacksNV = getFunctionAddress(provider, unsupported, 2158, "glGenTransformFeedbacksNV");
+        glIsTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2159, "glIsTransformFeedbackNV");
+        glPauseTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2160, "glPauseTransformFeedbackNV");
+        glResumeTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2161, "glResumeTransformFeedbackNV");
+        glDrawTransformFeedbackNV = getFunctionAddress(provider, unsupported, 2162, "glDrawTransformFeedbackNV");
+        glVertexArrayRangeNV = getFunctionAddress(provider, unsupported, 2163, "glVertexArrayRangeNV");
+        glFlushVertexArrayRangeNV = getFunctionAddress(provider, unsupported, 2164, "glFlushVertexArrayRangeNV");
+        glVertexAttribL1i64NV = getFunctionAddress(provider, unsupported, 2165, "glVertexAttribL1i64NV");
+        glVertexAttribL2i64NV = getFunctionAddress(provider, unsupported, 2166, "glVertexAttribL2i64NV");
+        glVertexAttribL3i64NV = getFunctionAddress(provider, unsupported, 2167, "glVertexAttribL3i64NV");
+        glVertexAttribL4i64NV = getFunctionAddress(provider, unsupported, 2168, "glVertexAttribL4i64NV");
+        glVertexAttribL1i64vNV = getFunctionAddress(provider, unsupported, 2169, "glVertexAttribL1i64vNV");
+        glVertexAttribL2i64vNV = getFunctionAddress(provider, unsupported, 2170, "glVertexAttribL2i64vNV");
+        glVertexAttribL3i64vNV = getFunctionAddress(provider, unsupported, 2171, "glVertexAttribL3i64vNV");
+        glVertexAttribL4i64vNV = getFunctionAddress(provider, unsupported, 2172, "glVertexAttribL4i64vNV");
+        glVertexAttribL1ui64NV = getFunctionAddress(provider, unsupported, 2173, "glVertexAttribL1ui64NV");
+        glVertexAttribL2ui64NV = getFunctionAddress(provider, unsupported, 2174, "glVertexAttribL2ui64NV");
+        glVertexAttribL3ui64NV = getFunctionAddress(provider, unsupported, 2175, "glVertexAttribL3ui64NV");
+        glVertexAttribL4ui64NV = getFunctionAddress(provider, unsupported, 2176, "glVertexAttribL4ui64NV");
+        glVertexAttribL1ui64vNV = getFunctionAddress(provider, unsupported, 2177, "glVertexAttribL1ui64vNV");
+        glVertexAttribL2ui64vNV = getFunctionAddress(provider, unsupported, 2178, "glVertexAttribL2ui64vNV");
+        glVertexAttribL3ui64vNV = getFunctionAddress(provider, unsupported, 2179, "glVertexAttribL3ui64vNV");
+        glVertexAttribL4ui64vNV = getFunctionAddress(provider, unsupported, 2180, "glVertexAttribL4ui64vNV");
+        glGetVertexAttribLi64vNV = getFunctionAddress(provider, unsupported, 2181, "glGetVertexAttribLi64vNV");
+        glGetVertexAttribLui64vNV = getFunctionAddress(provider, unsupported, 2182, "glGetVertexAttribLui64vNV");
+        glVertexAttribLFormatNV = getFunctionAddress(provider, unsupported, 2183, "glVertexAttribLFormatNV");
+        glBufferAddressRangeNV = getFunctionAddress(provider, unsupported, 2184, "glBufferAddressRangeNV");
+        glVertexFormatNV = getFunctionAddress(provider, unsupported, 2185, "glVertexFormatNV");
+        glNormalFormatNV = getFunctionAddress(provider, unsupported, 2186, "glNormalFormatNV");
+        glColorFormatNV = getFunctionAddress(provider, unsupported, 2187, "glColorFormatNV");
+        glIndexFormatNV = getFunctionAddress(provider, unsupported, 2188, "glIndexFormatNV");
+        glTexCoordFormatNV = getFunctionAddress(provider, unsupported, 2189, "glTexCoordFormatNV");
+        glEdgeFlagFormatNV = getFunctionAddress(provider, unsupported, 2190, "glEdgeFlagFormatNV");
+        glSecondaryColorFormatNV = getFunctionAddress(provider, unsupported, 2191, "glSecondaryColorFormatNV");
+        glFogCoordFormatNV = getFunctionAddress(provider, unsupported, 2192, "glFogCoordFormatNV");
+        glVertexAttribFormatNV = getFunctionAddress(provider, unsupported, 2193, "glVertexAttribFormatNV");
+        glVertexAttribIFormatNV = getFunctionAddress(provider, unsupported, 2194, "glVertexAttribIFormatNV");
+        glGetIntegerui64i_vNV = getFunctionAddress(provider, unsupported, 2195, "glGetIntegerui64i_vNV");
+        glViewportSwizzleNV = getFunctionAddress(provider, unsupported, 2196, "glViewportSwizzleNV");
+        glBeginConditionalRenderNVX = getFunctionAddress(provider, unsupported, 2197, "glBeginConditionalRenderNVX");
+        glEndConditionalRenderNVX = getFunctionAddress(provider, unsupported, 2198, "glEndConditionalRenderNVX");
+        glAsyncCopyImageSubDataNVX = getFunctionAddress(provider, unsupported, 2199, "glAsyncCopyImageSubDataNVX");
+        glAsyncCopyBufferSubDataNVX = getFunctionAddress(provider, unsupported, 2200, "glAsyncCopyBufferSubDataNVX");
+        glUploadGpuMaskNVX = getFunctionAddress(provider, unsupported, 2201, "glUploadGpuMaskNVX");
+        glMulticastViewportArrayvNVX = getFunctionAddress(provider, unsupported, 2202, "glMulticastViewportArrayvNVX");
+        glMulticastScissorArrayvNVX = getFunctionAddress(provider, unsupported, 2203, "glMulticastScissorArrayvNVX");
+        glMulticastViewportPositionWScaleNVX = getFunctionAddress(provider, unsupported, 2204, "glMulticastViewportPositionWScaleNVX");
+        glCreateProgressFenceNVX = getFunctionAddress(provider, unsupported, 2205, "glCreateProgressFenceNVX");
+        glSignalSemaphoreui64NVX = getFunctionAddress(provider, unsupported, 2206, "glSignalSemaphoreui64NVX");
+        glWaitSemaphoreui64NVX = getFunctionAddress(provider, unsupported, 2207, "glWaitSemaphoreui64NVX");
+        glClientWaitSemaphoreui64NVX = getFunctionAddress(provider, unsupported, 2208, "glClientWaitSemaphoreui64NVX");
+        glFramebufferTextureMultiviewOVR = getFunctionAddress(provider, unsupported, 2209, "glFramebufferTextureMultiviewOVR");
+        glNamedFramebufferTextureMultiviewOVR = getFunctionAddress(provider, unsupported, 2210, "glNamedFramebufferTextureMultiviewOVR");
 
         OpenGL11 = ext.contains("OpenGL11") && checkExtension("OpenGL11", GL11.isAvailable(this, ext, fc));
         OpenGL12 = ext.contains("OpenGL12") && checkExtension("OpenGL12", GL12.isAvailable(this));
@@ -6833,8 +6841,269 @@ public final class GLCapabilities {
         return ext.contains("GL45") || ext.contains("GL_ARB_direct_state_access") || ext.contains("GL_EXT_direct_state_access");
     }
 
-    private static long getFunctionAddress(boolean fc, FunctionProvider provider, String functionName) {
-        return fc ? NULL : provider.getFunctionAddress(functionName);
+    private static long getFunctionAddress(FunctionProvider provider, @Nullable boolean[] unsupported, int index, String functionName) {
+        return unsupported != null && unsupported[index] ? NULL : provider.getFunctionAddress(functionName);
+    }
+
+    private static long getFunctionAddress(boolean fc, FunctionProvider provider, @Nullable boolean[] unsupported, int index, String functionName) {
+        return fc ? NULL : getFunctionAddress(provider, unsupported, index, functionName);
+    }
+
+    private static boolean[] getUnsupportedFunctions(Set<String> ext) {
+        boolean[] unsupported = new boolean[2211];
+        if (!ext.contains("OpenGL11")) { Arrays.fill(unsupported, 0, 336, true); }
+        if (!ext.contains("OpenGL12")) { Arrays.fill(unsupported, 336, 340, true); }
+        if (!ext.contains("OpenGL13")) { Arrays.fill(unsupported, 340, 386, true); }
+        if (!ext.contains("OpenGL14")) { Arrays.fill(unsupported, 386, 424, true); }
+        if (!ext.contains("OpenGL14") && !ext.contains("GL_ARB_imaging")) { Arrays.fill(unsupported, 424, 426, true); }
+        if (!ext.contains("OpenGL14")) { Arrays.fill(unsupported, 426, 433, true); }
+        if (!ext.contains("OpenGL15")) { Arrays.fill(unsupported, 433, 452, true); }
+        if (!ext.contains("OpenGL20")) { Arrays.fill(unsupported, 452, 545, true); }
+        if (!ext.contains("OpenGL21")) { Arrays.fill(unsupported, 545, 551, true); }
+        if (!ext.contains("OpenGL30")) { Arrays.fill(unsupported, 551, 592, true); }
+        if (!ext.contains("OpenGL30") && !ext.contains("GL_ARB_map_buffer_range")) { Arrays.fill(unsupported, 592, 594, true); }
+        if (!ext.contains("OpenGL30")) { unsupported[594] = true; }
+        if (!ext.contains("OpenGL30") && !ext.contains("GL_ARB_framebuffer_object")) { Arrays.fill(unsupported, 595, 615, true); }
+        if (!ext.contains("OpenGL30")) { Arrays.fill(unsupported, 615, 621, true); }
+        if (!ext.contains("OpenGL30") && !ext.contains("GL_ARB_uniform_buffer_object")) { unsupported[621] = true; }
+        if (!ext.contains("OpenGL30")) { Arrays.fill(unsupported, 622, 625, true); }
+        if (!ext.contains("OpenGL30") && !ext.contains("GL_ARB_uniform_buffer_object")) { Arrays.fill(unsupported, 625, 627, true); }
+        if (!ext.contains("OpenGL30")) { Arrays.fill(unsupported, 627, 631, true); }
+        if (!ext.contains("OpenGL30") && !ext.contains("GL_ARB_vertex_array_object")) { Arrays.fill(unsupported, 631, 635, true); }
+        if (!ext.contains("OpenGL31")) { Arrays.fill(unsupported, 635, 637, true); }
+        if (!ext.contains("OpenGL31") && !ext.contains("GL_ARB_copy_buffer")) { unsupported[637] = true; }
+        if (!ext.contains("OpenGL31")) { Arrays.fill(unsupported, 638, 640, true); }
+        if (!ext.contains("OpenGL31") && !ext.contains("GL_ARB_uniform_buffer_object")) { Arrays.fill(unsupported, 640, 647, true); }
+        if (!ext.contains("OpenGL32")) { unsupported[647] = true; }
+        if (!ext.contains("OpenGL32") && !ext.contains("GL_ARB_draw_elements_base_vertex")) { Arrays.fill(unsupported, 648, 652, true); }
+        if (!ext.contains("OpenGL32") && !ext.contains("GL_ARB_provoking_vertex")) { unsupported[652] = true; }
+        if (!ext.contains("OpenGL32") && !ext.contains("GL_ARB_texture_multisample")) { Arrays.fill(unsupported, 653, 657, true); }
+        if (!ext.contains("OpenGL32")) { unsupported[657] = true; }
+        if (!ext.contains("OpenGL32") && !ext.contains("GL_ARB_sync")) { Arrays.fill(unsupported, 658, 664, true); }
+        if (!ext.contains("OpenGL32")) { unsupported[664] = true; }
+        if (!ext.contains("OpenGL32") && !ext.contains("GL_ARB_sync")) { unsupported[665] = true; }
+        if (!ext.contains("OpenGL33") && !ext.contains("GL_ARB_vertex_type_2_10_10_10_rev")) { Arrays.fill(unsupported, 666, 696, true); }
+        if (!ext.contains("OpenGL33") && !ext.contains("GL_ARB_blend_func_extended")) { Arrays.fill(unsupported, 696, 698, true); }
+        if (!ext.contains("OpenGL33") && !ext.contains("GL_ARB_sampler_objects")) { Arrays.fill(unsupported, 698, 712, true); }
+        if (!ext.contains("OpenGL33") && !ext.contains("GL_ARB_timer_query")) { Arrays.fill(unsupported, 712, 715, true); }
+        if (!ext.contains("OpenGL33")) { unsupported[715] = true; }
+        if (!ext.contains("OpenGL33") && !ext.contains("GL_ARB_vertex_type_2_10_10_10_rev")) { Arrays.fill(unsupported, 716, 724, true); }
+        if (!ext.contains("OpenGL40")) { Arrays.fill(unsupported, 724, 728, true); }
+        if (!ext.contains("OpenGL40") && !ext.contains("GL_ARB_draw_indirect")) { Arrays.fill(unsupported, 728, 730, true); }
+        if (!ext.contains("OpenGL40") && !ext.contains("GL_ARB_gpu_shader_fp64")) { Arrays.fill(unsupported, 730, 748, true); }
+        if (!ext.contains("OpenGL40")) { unsupported[748] = true; }
+        if (!ext.contains("OpenGL40") && !ext.contains("GL_ARB_shader_subroutine")) { Arrays.fill(unsupported, 749, 757, true); }
+        if (!ext.contains("OpenGL40") && !ext.contains("GL_ARB_tessellation_shader")) { Arrays.fill(unsupported, 757, 759, true); }
+        if (!ext.contains("OpenGL40") && !ext.contains("GL_ARB_transform_feedback2")) { Arrays.fill(unsupported, 759, 766, true); }
+        if (!ext.contains("OpenGL40") && !ext.contains("GL_ARB_transform_feedback3")) { Arrays.fill(unsupported, 766, 770, true); }
+        if (!ext.contains("OpenGL41") && !ext.contains("GL_ARB_ES2_compatibility")) { Arrays.fill(unsupported, 770, 775, true); }
+        if (!ext.contains("OpenGL41") && !ext.contains("GL_ARB_get_program_binary")) { Arrays.fill(unsupported, 775, 777, true); }
+        if (!ext.contains("OpenGL41") && !ext.contains("GL_ARB_get_program_binary") && !ext.contains("GL_ARB_separate_shader_objects")) { unsupported[777] = true; }
+        if (!ext.contains("OpenGL41") && !ext.contains("GL_ARB_separate_shader_objects")) { Arrays.fill(unsupported, 778, 838, true); }
+        if (!ext.contains("OpenGL41") && !ext.contains("GL_ARB_vertex_attrib_64bit")) { Arrays.fill(unsupported, 838, 848, true); }
+        if (!ext.contains("OpenGL41") && !ext.contains("GL_ARB_viewport_array")) { Arrays.fill(unsupported, 848, 858, true); }
+        if (!ext.contains("OpenGL42") && !ext.contains("GL_ARB_shader_atomic_counters")) { unsupported[858] = true; }
+        if (!ext.contains("OpenGL42") && !ext.contains("GL_ARB_texture_storage")) { Arrays.fill(unsupported, 859, 862, true); }
+        if (!ext.contains("OpenGL42") && !ext.contains("GL_ARB_transform_feedback_instanced")) { Arrays.fill(unsupported, 862, 864, true); }
+        if (!ext.contains("OpenGL42") && !ext.contains("GL_ARB_base_instance")) { Arrays.fill(unsupported, 864, 867, true); }
+        if (!ext.contains("OpenGL42") && !ext.contains("GL_ARB_shader_image_load_store")) { Arrays.fill(unsupported, 867, 869, true); }
+        if (!ext.contains("OpenGL42") && !ext.contains("GL_ARB_internalformat_query")) { unsupported[869] = true; }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_clear_buffer_object")) { Arrays.fill(unsupported, 870, 872, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_compute_shader")) { Arrays.fill(unsupported, 872, 874, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_copy_image")) { unsupported[874] = true; }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_KHR_debug")) { Arrays.fill(unsupported, 875, 885, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_framebuffer_no_attachments")) { Arrays.fill(unsupported, 885, 887, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_internalformat_query2")) { unsupported[887] = true; }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_invalidate_subdata")) { Arrays.fill(unsupported, 888, 894, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_multi_draw_indirect")) { Arrays.fill(unsupported, 894, 896, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_program_interface_query")) { Arrays.fill(unsupported, 896, 902, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_shader_storage_buffer_object")) { unsupported[902] = true; }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_texture_buffer_range")) { unsupported[903] = true; }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_texture_storage_multisample")) { Arrays.fill(unsupported, 904, 906, true); }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_texture_view")) { unsupported[906] = true; }
+        if (!ext.contains("OpenGL43") && !ext.contains("GL_ARB_vertex_attrib_binding")) { Arrays.fill(unsupported, 907, 913, true); }
+        if (!ext.contains("OpenGL44") && !ext.contains("GL_ARB_buffer_storage")) { unsupported[913] = true; }
+        if (!ext.contains("OpenGL44") && !ext.contains("GL_ARB_clear_texture")) { Arrays.fill(unsupported, 914, 916, true); }
+        if (!ext.contains("OpenGL44") && !ext.contains("GL_ARB_multi_bind")) { Arrays.fill(unsupported, 916, 922, true); }
+        if (!ext.contains("OpenGL45")) { Arrays.fill(unsupported, 922, 934, true); }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_ARB_clip_control")) { unsupported[934] = true; }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_ARB_direct_state_access")) { Arrays.fill(unsupported, 935, 1032, true); }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_ARB_ES3_1_compatibility")) { unsupported[1032] = true; }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_ARB_get_texture_sub_image")) { Arrays.fill(unsupported, 1033, 1035, true); }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_ARB_texture_barrier")) { unsupported[1035] = true; }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_KHR_robustness")) { unsupported[1036] = true; }
+        if (!ext.contains("OpenGL45")) { unsupported[1037] = true; }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_KHR_robustness")) { unsupported[1038] = true; }
+        if (!ext.contains("OpenGL45")) { unsupported[1039] = true; }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_KHR_robustness")) { unsupported[1040] = true; }
+        if (!ext.contains("OpenGL45")) { unsupported[1041] = true; }
+        if (!ext.contains("OpenGL45") && !ext.contains("GL_KHR_robustness")) { Arrays.fill(unsupported, 1042, 1044, true); }
+        if (!ext.contains("OpenGL46")) { Arrays.fill(unsupported, 1044, 1046, true); }
+        if (!ext.contains("OpenGL46") && !ext.contains("GL_ARB_polygon_offset_clamp")) { unsupported[1046] = true; }
+        if (!ext.contains("OpenGL46")) { unsupported[1047] = true; }
+        if (!ext.contains("GL_AMD_debug_output")) { Arrays.fill(unsupported, 1048, 1052, true); }
+        if (!ext.contains("GL_AMD_draw_buffers_blend")) { Arrays.fill(unsupported, 1052, 1056, true); }
+        if (!ext.contains("GL_AMD_framebuffer_multisample_advanced")) { Arrays.fill(unsupported, 1056, 1058, true); }
+        if (!ext.contains("GL_AMD_interleaved_elements")) { unsupported[1058] = true; }
+        if (!ext.contains("GL_AMD_occlusion_query_event")) { unsupported[1059] = true; }
+        if (!ext.contains("GL_AMD_performance_monitor")) { Arrays.fill(unsupported, 1060, 1071, true); }
+        if (!ext.contains("GL_AMD_sample_positions")) { unsupported[1071] = true; }
+        if (!ext.contains("GL_AMD_sparse_texture")) { Arrays.fill(unsupported, 1072, 1074, true); }
+        if (!ext.contains("GL_AMD_stencil_operation_extended")) { unsupported[1074] = true; }
+        if (!ext.contains("GL_AMD_vertex_shader_tessellator")) { Arrays.fill(unsupported, 1075, 1077, true); }
+        if (!ext.contains("GL_ARB_bindless_texture")) { Arrays.fill(unsupported, 1077, 1093, true); }
+        if (!ext.contains("GL_ARB_buffer_storage")) { unsupported[1093] = true; }
+        if (!ext.contains("GL_ARB_cl_event")) { unsupported[1094] = true; }
+        if (!ext.contains("GL_ARB_clear_buffer_object")) { Arrays.fill(unsupported, 1095, 1097, true); }
+        if (!ext.contains("GL_ARB_color_buffer_float")) { unsupported[1097] = true; }
+        if (!ext.contains("GL_ARB_compute_variable_group_size")) { unsupported[1098] = true; }
+        if (!ext.contains("GL_ARB_debug_output")) { Arrays.fill(unsupported, 1099, 1103, true); }
+        if (!ext.contains("GL_ARB_draw_buffers")) { unsupported[1103] = true; }
+        if (!ext.contains("GL_ARB_draw_buffers_blend")) { Arrays.fill(unsupported, 1104, 1108, true); }
+        if (!ext.contains("GL_ARB_draw_instanced")) { Arrays.fill(unsupported, 1108, 1110, true); }
+        if (!ext.contains("GL_ARB_ES3_2_compatibility")) { unsupported[1110] = true; }
+        if (!ext.contains("GL_ARB_framebuffer_no_attachments")) { Arrays.fill(unsupported, 1111, 1113, true); }
+        if (!ext.contains("GL_ARB_geometry_shader4")) { Arrays.fill(unsupported, 1113, 1117, true); }
+        if (!ext.contains("GL_ARB_gl_spirv")) { unsupported[1117] = true; }
+        if (!ext.contains("GL_ARB_gpu_shader_fp64")) { Arrays.fill(unsupported, 1118, 1135, true); }
+        if (!ext.contains("GL_ARB_gpu_shader_int64")) { Arrays.fill(unsupported, 1135, 1171, true); }
+        if (!ext.contains("GL_ARB_imaging")) { Arrays.fill(unsupported, 1171, 1203, true); }
+        if (!ext.contains("GL_ARB_indirect_parameters")) { Arrays.fill(unsupported, 1203, 1205, true); }
+        if (!ext.contains("GL_ARB_instanced_arrays")) { Arrays.fill(unsupported, 1205, 1207, true); }
+        if (!ext.contains("GL_ARB_matrix_palette")) { Arrays.fill(unsupported, 1207, 1212, true); }
+        if (!ext.contains("GL_ARB_multisample")) { unsupported[1212] = true; }
+        if (!ext.contains("GL_ARB_multitexture")) { Arrays.fill(unsupported, 1213, 1247, true); }
+        if (!ext.contains("GL_ARB_occlusion_query")) { Arrays.fill(unsupported, 1247, 1255, true); }
+        if (!ext.contains("GL_ARB_parallel_shader_compile")) { unsupported[1255] = true; }
+        if (!ext.contains("GL_ARB_point_parameters")) { Arrays.fill(unsupported, 1256, 1258, true); }
+        if (!ext.contains("GL_ARB_robustness")) { Arrays.fill(unsupported, 1258, 1278, true); }
+        if (!ext.contains("GL_ARB_sample_locations")) { Arrays.fill(unsupported, 1278, 1281, true); }
+        if (!ext.contains("GL_ARB_sample_shading")) { unsupported[1281] = true; }
+        if (!ext.contains("GL_ARB_shader_objects")) { Arrays.fill(unsupported, 1282, 1321, true); }
+        if (!ext.contains("GL_ARB_shading_language_include")) { Arrays.fill(unsupported, 1321, 1327, true); }
+        if (!ext.contains("GL_ARB_sparse_buffer")) { Arrays.fill(unsupported, 1327, 1330, true); }
+        if (!ext.contains("GL_ARB_sparse_texture")) { Arrays.fill(unsupported, 1330, 1332, true); }
+        if (!ext.contains("GL_ARB_texture_buffer_object")) { unsupported[1332] = true; }
+        if (!ext.contains("GL_ARB_texture_buffer_range")) { unsupported[1333] = true; }
+        if (!ext.contains("GL_ARB_texture_compression")) { Arrays.fill(unsupported, 1334, 1341, true); }
+        if (!ext.contains("GL_ARB_texture_storage")) { Arrays.fill(unsupported, 1341, 1344, true); }
+        if (!ext.contains("GL_ARB_texture_storage_multisample")) { Arrays.fill(unsupported, 1344, 1346, true); }
+        if (!ext.contains("GL_ARB_transpose_matrix")) { Arrays.fill(unsupported, 1346, 1350, true); }
+        if (!ext.contains("GL_ARB_vertex_attrib_64bit") && !ext.contains("GL_EXT_vertex_attrib_64bit")) { unsupported[1350] = true; }
+        if (!ext.contains("GL_ARB_vertex_attrib_binding")) { Arrays.fill(unsupported, 1351, 1357, true); }
+        if (!ext.contains("GL_ARB_vertex_blend")) { Arrays.fill(unsupported, 1357, 1367, true); }
+        if (!ext.contains("GL_ARB_vertex_buffer_object")) { Arrays.fill(unsupported, 1367, 1378, true); }
+        if (!ext.contains("GL_ARB_vertex_program")) { Arrays.fill(unsupported, 1378, 1397, true); }
+        if (!ext.contains("GL_ARB_vertex_program") && !ext.contains("GL_ARB_vertex_shader")) { Arrays.fill(unsupported, 1397, 1436, true); }
+        if (!ext.contains("GL_ARB_vertex_shader")) { Arrays.fill(unsupported, 1436, 1439, true); }
+        if (!ext.contains("GL_ARB_vertex_program") && !ext.contains("GL_ARB_vertex_shader")) { Arrays.fill(unsupported, 1439, 1443, true); }
+        if (!ext.contains("GL_ARB_window_pos")) { Arrays.fill(unsupported, 1443, 1459, true); }
+        if (!ext.contains("GL_EXT_bindable_uniform")) { Arrays.fill(unsupported, 1459, 1462, true); }
+        if (!ext.contains("GL_EXT_blend_color")) { unsupported[1462] = true; }
+        if (!ext.contains("GL_EXT_blend_equation_separate")) { unsupported[1463] = true; }
+        if (!ext.contains("GL_EXT_blend_func_separate")) { unsupported[1464] = true; }
+        if (!ext.contains("GL_EXT_blend_minmax")) { unsupported[1465] = true; }
+        if (!ext.contains("GL_EXT_compiled_vertex_array")) { Arrays.fill(unsupported, 1466, 1468, true); }
+        if (!ext.contains("GL_EXT_debug_label")) { Arrays.fill(unsupported, 1468, 1470, true); }
+        if (!ext.contains("GL_EXT_debug_marker")) { Arrays.fill(unsupported, 1470, 1473, true); }
+        if (!ext.contains("GL_EXT_depth_bounds_test")) { unsupported[1473] = true; }
+        if (!ext.contains("GL_EXT_direct_state_access")) { Arrays.fill(unsupported, 1474, 1686, true); }
+        if (!ext.contains("GL_EXT_draw_buffers2")) { unsupported[1686] = true; }
+        if (!ext.contains("GL_EXT_direct_state_access") && !ext.contains("GL_EXT_draw_buffers2") && !ext.contains("GL_EXT_transform_feedback")) { Arrays.fill(unsupported, 1687, 1689, true); }
+        if (!ext.contains("GL_EXT_direct_state_access") && !ext.contains("GL_EXT_draw_buffers2")) { Arrays.fill(unsupported, 1689, 1692, true); }
+        if (!ext.contains("GL_EXT_draw_instanced")) { Arrays.fill(unsupported, 1692, 1694, true); }
+        if (!ext.contains("GL_EXT_EGL_image_storage")) { Arrays.fill(unsupported, 1694, 1696, true); }
+        if (!ext.contains("GL_EXT_external_buffer")) { Arrays.fill(unsupported, 1696, 1698, true); }
+        if (!ext.contains("GL_EXT_framebuffer_blit")) { unsupported[1698] = true; }
+        if (!ext.contains("GL_EXT_framebuffer_multisample")) { unsupported[1699] = true; }
+        if (!ext.contains("GL_EXT_framebuffer_object")) { Arrays.fill(unsupported, 1700, 1717, true); }
+        if (!ext.contains("GL_EXT_geometry_shader4")) { Arrays.fill(unsupported, 1717, 1720, true); }
+        if (!ext.contains("GL_EXT_gpu_program_parameters")) { Arrays.fill(unsupported, 1720, 1722, true); }
+        if (!ext.contains("GL_EXT_gpu_shader4")) { Arrays.fill(unsupported, 1722, 1756, true); }
+        if (!ext.contains("GL_EXT_memory_object") && !ext.contains("GL_EXT_semaphore")) { Arrays.fill(unsupported, 1756, 1758, true); }
+        if (!ext.contains("GL_EXT_memory_object")) { Arrays.fill(unsupported, 1758, 1775, true); }
+        if (!ext.contains("GL_EXT_memory_object_fd")) { unsupported[1775] = true; }
+        if (!ext.contains("GL_EXT_memory_object_win32")) { Arrays.fill(unsupported, 1776, 1778, true); }
+        if (!ext.contains("GL_EXT_point_parameters")) { Arrays.fill(unsupported, 1778, 1780, true); }
+        if (!ext.contains("GL_EXT_polygon_offset_clamp")) { unsupported[1780] = true; }
+        if (!ext.contains("GL_EXT_provoking_vertex")) { unsupported[1781] = true; }
+        if (!ext.contains("GL_EXT_raster_multisample") && !ext.contains("GL_NV_framebuffer_mixed_samples")) { unsupported[1782] = true; }
+        if (!ext.contains("GL_EXT_secondary_color")) { Arrays.fill(unsupported, 1783, 1800, true); }
+        if (!ext.contains("GL_EXT_semaphore")) { Arrays.fill(unsupported, 1800, 1807, true); }
+        if (!ext.contains("GL_EXT_semaphore_fd")) { unsupported[1807] = true; }
+        if (!ext.contains("GL_EXT_semaphore_win32")) { Arrays.fill(unsupported, 1808, 1810, true); }
+        if (!ext.contains("GL_EXT_separate_shader_objects")) { Arrays.fill(unsupported, 1810, 1813, true); }
+        if (!ext.contains("GL_EXT_shader_framebuffer_fetch_non_coherent")) { unsupported[1813] = true; }
+        if (!ext.contains("GL_EXT_shader_image_load_store")) { Arrays.fill(unsupported, 1814, 1816, true); }
+        if (!ext.contains("GL_EXT_stencil_clear_tag")) { unsupported[1816] = true; }
+        if (!ext.contains("GL_EXT_stencil_two_side")) { unsupported[1817] = true; }
+        if (!ext.contains("GL_EXT_geometry_shader4") && !ext.contains("GL_EXT_texture_array")) { unsupported[1818] = true; }
+        if (!ext.contains("GL_EXT_texture_buffer_object")) { unsupported[1819] = true; }
+        if (!ext.contains("GL_EXT_texture_integer")) { Arrays.fill(unsupported, 1820, 1826, true); }
+        if (!ext.contains("GL_EXT_timer_query")) { Arrays.fill(unsupported, 1826, 1828, true); }
+        if (!ext.contains("GL_EXT_transform_feedback")) { Arrays.fill(unsupported, 1828, 1835, true); }
+        if (!ext.contains("GL_EXT_vertex_attrib_64bit")) { Arrays.fill(unsupported, 1835, 1845, true); }
+        if (!ext.contains("GL_EXT_win32_keyed_mutex")) { Arrays.fill(unsupported, 1845, 1847, true); }
+        if (!ext.contains("GL_EXT_window_rectangles")) { unsupported[1847] = true; }
+        if (!ext.contains("GL_EXT_x11_sync_object")) { unsupported[1848] = true; }
+        if (!ext.contains("GL_GREMEDY_frame_terminator")) { unsupported[1849] = true; }
+        if (!ext.contains("GL_GREMEDY_string_marker")) { unsupported[1850] = true; }
+        if (!ext.contains("GL_INTEL_framebuffer_CMAA")) { unsupported[1851] = true; }
+        if (!ext.contains("GL_INTEL_map_texture")) { Arrays.fill(unsupported, 1852, 1855, true); }
+        if (!ext.contains("GL_INTEL_performance_query")) { Arrays.fill(unsupported, 1855, 1865, true); }
+        if (!ext.contains("GL_KHR_blend_equation_advanced")) { unsupported[1865] = true; }
+        if (!ext.contains("GL_KHR_parallel_shader_compile")) { unsupported[1866] = true; }
+        if (!ext.contains("GL_NV_alpha_to_coverage_dither_control")) { unsupported[1867] = true; }
+        if (!ext.contains("GL_NV_bindless_multi_draw_indirect")) { Arrays.fill(unsupported, 1868, 1870, true); }
+        if (!ext.contains("GL_NV_bindless_multi_draw_indirect_count")) { Arrays.fill(unsupported, 1870, 1872, true); }
+        if (!ext.contains("GL_NV_bindless_texture")) { Arrays.fill(unsupported, 1872, 1885, true); }
+        if (!ext.contains("GL_NV_blend_equation_advanced")) { Arrays.fill(unsupported, 1885, 1887, true); }
+        if (!ext.contains("GL_NV_clip_space_w_scaling")) { unsupported[1887] = true; }
+        if (!ext.contains("GL_NV_command_list")) { Arrays.fill(unsupported, 1888, 1905, true); }
+        if (!ext.contains("GL_NV_conditional_render")) { Arrays.fill(unsupported, 1905, 1907, true); }
+        if (!ext.contains("GL_NV_conservative_raster")) { unsupported[1907] = true; }
+        if (!ext.contains("GL_NV_conservative_raster_dilate")) { unsupported[1908] = true; }
+        if (!ext.contains("GL_NV_conservative_raster_pre_snap_triangles")) { unsupported[1909] = true; }
+        if (!ext.contains("GL_NV_copy_image")) { unsupported[1910] = true; }
+        if (!ext.contains("GL_NV_depth_buffer_float")) { Arrays.fill(unsupported, 1911, 1914, true); }
+        if (!ext.contains("GL_NV_draw_texture")) { unsupported[1914] = true; }
+        if (!ext.contains("GL_NV_draw_vulkan_image")) { Arrays.fill(unsupported, 1915, 1920, true); }
+        if (!ext.contains("GL_NV_explicit_multisample")) { Arrays.fill(unsupported, 1920, 1923, true); }
+        if (!ext.contains("GL_NV_fence")) { Arrays.fill(unsupported, 1923, 1930, true); }
+        if (!ext.contains("GL_NV_fragment_coverage_to_color")) { unsupported[1930] = true; }
+        if (!ext.contains("GL_NV_framebuffer_mixed_samples")) { Arrays.fill(unsupported, 1931, 1934, true); }
+        if (!ext.contains("GL_NV_framebuffer_multisample_coverage")) { unsupported[1934] = true; }
+        if (!ext.contains("GL_NV_gpu_multicast")) { Arrays.fill(unsupported, 1935, 1947, true); }
+        if (!ext.contains("GL_AMD_gpu_shader_int64") && !ext.contains("GL_NV_gpu_shader5")) { Arrays.fill(unsupported, 1947, 1980, true); }
+        if (!ext.contains("GL_NV_half_float")) { Arrays.fill(unsupported, 1980, 2026, true); }
+        if (!ext.contains("GL_NV_internalformat_sample_query")) { unsupported[2026] = true; }
+        if (!ext.contains("GL_NV_memory_attachment")) { Arrays.fill(unsupported, 2027, 2033, true); }
+        if (!ext.contains("GL_NV_mesh_shader")) { Arrays.fill(unsupported, 2033, 2037, true); }
+        if (!ext.contains("GL_NV_path_rendering")) { Arrays.fill(unsupported, 2037, 2101, true); }
+        if (!ext.contains("GL_NV_pixel_data_range")) { Arrays.fill(unsupported, 2101, 2103, true); }
+        if (!ext.contains("GL_NV_point_sprite")) { Arrays.fill(unsupported, 2103, 2105, true); }
+        if (!ext.contains("GL_NV_primitive_restart")) { Arrays.fill(unsupported, 2105, 2107, true); }
+        if (!ext.contains("GL_NV_query_resource")) { unsupported[2107] = true; }
+        if (!ext.contains("GL_NV_query_resource_tag")) { Arrays.fill(unsupported, 2108, 2111, true); }
+        if (!ext.contains("GL_NV_sample_locations")) { Arrays.fill(unsupported, 2111, 2114, true); }
+        if (!ext.contains("GL_NV_scissor_exclusive")) { Arrays.fill(unsupported, 2114, 2116, true); }
+        if (!ext.contains("GL_NV_shader_buffer_load")) { Arrays.fill(unsupported, 2116, 2127, true); }
+        if (!ext.contains("GL_AMD_gpu_shader_int64") && !ext.contains("GL_NV_gpu_shader5") && !ext.contains("GL_NV_shader_buffer_load")) { unsupported[2127] = true; }
+        if (!ext.contains("GL_NV_shader_buffer_load")) { Arrays.fill(unsupported, 2128, 2130, true); }
+        if (!ext.contains("GL_NV_shading_rate_image")) { Arrays.fill(unsupported, 2130, 2137, true); }
+        if (!ext.contains("GL_NV_texture_barrier")) { unsupported[2137] = true; }
+        if (!ext.contains("GL_NV_texture_multisample")) { Arrays.fill(unsupported, 2138, 2144, true); }
+        if (!ext.contains("GL_NV_transform_feedback")) { Arrays.fill(unsupported, 2144, 2156, true); }
+        if (!ext.contains("GL_NV_transform_feedback2")) { Arrays.fill(unsupported, 2156, 2163, true); }
+        if (!ext.contains("GL_NV_vertex_array_range")) { Arrays.fill(unsupported, 2163, 2165, true); }
+        if (!ext.contains("GL_NV_vertex_attrib_integer_64bit")) { Arrays.fill(unsupported, 2165, 2184, true); }
+        if (!ext.contains("GL_NV_vertex_buffer_unified_memory")) { Arrays.fill(unsupported, 2184, 2196, true); }
+        if (!ext.contains("GL_NV_viewport_swizzle")) { unsupported[2196] = true; }
+        if (!ext.contains("GL_NVX_conditional_render")) { Arrays.fill(unsupported, 2197, 2199, true); }
+        if (!ext.contains("GL_NVX_gpu_multicast2")) { Arrays.fill(unsupported, 2199, 2205, true); }
+        if (!ext.contains("GL_NVX_progress_fence")) { Arrays.fill(unsupported, 2205, 2209, true); }
+        if (!ext.contains("GL_OVR_multiview")) { Arrays.fill(unsupported, 2209, 2211, true); }
+        return unsupported;
     }
 
     private static boolean checkExtension(String extension, boolean supported) {
@@ -67,6 +67,8 @@ public class GLX {
         GLX_BAD_VALUE     = 6,
         GLX_BAD_ENUM      = 7;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLX.class, "glXQueryExtension,glXQueryVersion,glXGetConfig,glXChooseVisual,glXCreateContext,glXMakeCurrent,glXCopyContext,glXIsDirect,glXDestroyContext,glXGetCurrentContext,glXGetCurrentDrawable,glXWaitGL,glXWaitX,glXSwapBuffers,glXUseXFont,glXCreateGLXPixmap,glXDestroyGLXPixmap");
+
     protected GLX() {
         throw new UnsupportedOperationException();
     }
@@ -106,7 +108,8 @@ public class GLX {
         if (CHECKS) {
             check(display);
         }
-        return callPPPI(display, error_base, event_base, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(display, error_base, event_base, __functionAddress));
     }
 
     /**
@@ -133,7 +136,8 @@ public class GLX {
         if (CHECKS) {
             check(display);
         }
-        return callPPPI(display, major, minor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(display, major, minor, __functionAddress));
     }
 
     /**
@@ -161,7 +165,8 @@ public class GLX {
             check(display);
             XVisualInfo.validate(visual);
         }
-        return callPPPI(display, visual, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(display, visual, attribute, value, __functionAddress));
     }
 
     /**
@@ -187,7 +192,8 @@ public class GLX {
         if (CHECKS) {
             check(display);
         }
-        return callPPP(display, screen, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPP(display, screen, attrib_list, __functionAddress));
     }
 
     /**
@@ -219,7 +225,8 @@ public class GLX {
             check(display);
             XVisualInfo.validate(visual);
         }
-        return callPPPP(display, visual, share_list, direct, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPP(display, visual, share_list, direct, __functionAddress));
     }
 
     /**
@@ -250,7 +257,8 @@ public class GLX {
         if (CHECKS) {
             check(display);
         }
-        return callPPPI(display, draw, ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPI(display, draw, ctx, __functionAddress)) != 0;
     }
 
     // --- [ glXCopyContext ] ---
@@ -270,7 +278,9 @@ public class GLX {
             check(source);
             check(dest);
         }
+        long __start = FunctionProfiler.start();
         callPPPNV(display, source, dest, mask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glXIsDirect ] ---
@@ -288,7 +298,8 @@ public class GLX {
             check(display);
             check(ctx);
         }
-        return callPPI(display, ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPI(display, ctx, __functionAddress)) != 0;
     }
 
     // --- [ glXDestroyContext ] ---
@@ -308,7 +319,9 @@ public class GLX {
             check(display);
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, ctx, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glXGetCurrentContext ] ---
@@ -317,7 +330,8 @@ public class GLX {
     @NativeType("GLXContext")
     public static long glXGetCurrentContext() {
         long __functionAddress = Functions.GetCurrentContext;
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callP(__functionAddress));
     }
 
     // --- [ glXGetCurrentDrawable ] ---
@@ -326,7 +340,8 @@ public class GLX {
     @NativeType("GLXDrawable")
     public static long glXGetCurrentDrawable() {
         long __functionAddress = Functions.GetCurrentDrawable;
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callP(__functionAddress));
     }
 
     // --- [ glXWaitGL ] ---
@@ -340,7 +355,9 @@ public class GLX {
      */
     public static void glXWaitGL() {
         long __functionAddress = Functions.WaitGL;
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glXWaitX ] ---
@@ -353,7 +370,9 @@ public class GLX {
      */
     public static void glXWaitX() {
         long __functionAddress = Functions.WaitX;
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glXSwapBuffers ] ---
@@ -373,7 +392,9 @@ public class GLX {
             check(display);
             check(draw);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, draw, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glXUseXFont ] ---
@@ -388,7 +409,9 @@ public class GLX {
      */
     public static void glXUseXFont(@NativeType("Font") long font, int first, int count, int list_base) {
         long __functionAddress = Functions.UseXFont;
+        long __start = FunctionProfiler.start();
         callNV(font, first, count, list_base, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glXCreateGLXPixmap ] ---
@@ -400,7 +423,8 @@ public class GLX {
             check(display);
             XVisualInfo.validate(visual);
         }
-        return callPPNP(display, visual, pixmap, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPNP(display, visual, pixmap, __functionAddress));
     }
 
     /**
@@ -429,7 +453,9 @@ public class GLX {
             check(display);
             check(pixmap);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, pixmap, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glXQueryExtension QueryExtension} */
@@ -441,7 +467,8 @@ public class GLX {
             check(error_base, 1);
             check(event_base, 1);
         }
-        return callPPPI(display, error_base, event_base, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(display, error_base, event_base, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #glXQueryVersion QueryVersion} */
@@ -453,7 +480,8 @@ public class GLX {
             check(major, 1);
             check(minor, 1);
         }
-        return callPPPI(display, major, minor, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(display, major, minor, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #glXGetConfig GetConfig} */
@@ -464,7 +492,8 @@ public class GLX {
             check(value, 1);
             XVisualInfo.validate(visual.address());
         }
-        return callPPPI(display, visual.address(), attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(display, visual.address(), attribute, value, __functionAddress));
     }
 
     /** Array version of: {@link #glXChooseVisual ChooseVisual} */
@@ -476,7 +505,8 @@ public class GLX {
             check(display);
             checkNTSafe(attrib_list);
         }
-        long __result = callPPP(display, screen, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, callPPP(display, screen, attrib_list, __functionAddress));
         return XVisualInfo.createSafe(__result);
     }
 
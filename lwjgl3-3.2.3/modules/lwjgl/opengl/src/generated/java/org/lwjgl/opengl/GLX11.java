@@ -22,6 +22,8 @@ public class GLX11 extends GLX {
         GLX_VERSION    = 0x2,
         GLX_EXTENSIONS = 0x3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLX11.class, "glXQueryExtensionsString,glXGetClientString,glXQueryServerString");
+
     protected GLX11() {
         throw new UnsupportedOperationException();
     }
@@ -41,7 +43,8 @@ public class GLX11 extends GLX {
             check(__functionAddress);
             check(display);
         }
-        return callPP(display, screen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(display, screen, __functionAddress));
     }
 
     /**
@@ -66,7 +69,8 @@ public class GLX11 extends GLX {
             check(__functionAddress);
             check(display);
         }
-        return callPP(display, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(display, name, __functionAddress));
     }
 
     /**
@@ -91,7 +95,8 @@ public class GLX11 extends GLX {
             check(__functionAddress);
             check(display);
         }
-        return callPP(display, screen, name, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPP(display, screen, name, __functionAddress));
     }
 
     /**
@@ -13,6 +13,8 @@ import static org.lwjgl.system.JNI.*;
 /** Native bindings to GLX 1.2. */
 public class GLX12 extends GLX11 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLX12.class, "glXGetCurrentDisplay");
+
     protected GLX12() {
         throw new UnsupportedOperationException();
     }
@@ -32,7 +34,8 @@ public class GLX12 extends GLX11 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(__functionAddress));
     }
 
 }
\ No newline at end of file
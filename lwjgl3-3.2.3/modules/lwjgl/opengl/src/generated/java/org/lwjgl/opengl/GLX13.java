@@ -82,6 +82,8 @@ public class GLX13 extends GLX12 {
         GLX_PBUFFER_HEIGHT          = 0x8040,
         GLX_PBUFFER_WIDTH           = 0x8041;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLX13.class, "glXGetFBConfigs,glXChooseFBConfig,glXGetFBConfigAttrib,glXGetVisualFromFBConfig,glXCreateWindow,glXCreatePixmap,glXDestroyPixmap,glXCreatePbuffer,glXDestroyPbuffer,glXQueryDrawable,glXCreateNewContext,glXMakeContextCurrent,glXGetCurrentReadDrawable,glXQueryContext,glXSelectEvent,glXGetSelectedEvent");
+
     protected GLX13() {
         throw new UnsupportedOperationException();
     }
@@ -107,7 +109,8 @@ public class GLX13 extends GLX12 {
             check(__functionAddress);
             check(display);
         }
-        return callPPP(display, screen, nelements, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(display, screen, nelements, __functionAddress));
     }
 
     /**
@@ -142,7 +145,8 @@ public class GLX13 extends GLX12 {
             check(__functionAddress);
             check(display);
         }
-        return callPPPP(display, screen, attrib_list, nelements, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPP(display, screen, attrib_list, nelements, __functionAddress));
     }
 
     /**
@@ -178,7 +182,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(config);
         }
-        return callPPPI(display, config, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(display, config, attribute, value, __functionAddress));
     }
 
     /**
@@ -206,7 +211,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(config);
         }
-        return callPPP(display, config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPP(display, config, __functionAddress));
     }
 
     /**
@@ -232,7 +238,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(config);
         }
-        return callPPNPP(display, config, win, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPNPP(display, config, win, attrib_list, __functionAddress));
     }
 
     /**
@@ -261,7 +268,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(config);
         }
-        return callPPNPP(display, config, pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPNPP(display, config, pixmap, attrib_list, __functionAddress));
     }
 
     /**
@@ -295,7 +303,9 @@ public class GLX13 extends GLX12 {
             check(display);
             check(pixmap);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, pixmap, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glXCreatePbuffer ] ---
@@ -308,7 +318,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(config);
         }
-        return callPPPP(display, config, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPP(display, config, attrib_list, __functionAddress));
     }
 
     /**
@@ -341,7 +352,9 @@ public class GLX13 extends GLX12 {
             check(display);
             check(pbuf);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, pbuf, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glXQueryDrawable ] ---
@@ -354,7 +367,9 @@ public class GLX13 extends GLX12 {
             check(display);
             check(draw);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, draw, attribute, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -410,7 +425,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(config);
         }
-        return callPPPP(display, config, render_type, share_list, direct ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPPP(display, config, render_type, share_list, direct ? 1 : 0, __functionAddress));
     }
 
     // --- [ glXMakeContextCurrent ] ---
@@ -430,7 +446,8 @@ public class GLX13 extends GLX12 {
             check(__functionAddress);
             check(display);
         }
-        return callPPPPI(display, draw, read, ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPPI(display, draw, read, ctx, __functionAddress)) != 0;
     }
 
     // --- [ glXGetCurrentReadDrawable ] ---
@@ -442,7 +459,8 @@ public class GLX13 extends GLX12 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callP(__functionAddress));
     }
 
     // --- [ glXQueryContext ] ---
@@ -455,7 +473,8 @@ public class GLX13 extends GLX12 {
             check(display);
             check(ctx);
         }
-        return callPPPI(display, ctx, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(display, ctx, attribute, value, __functionAddress));
     }
 
     /**
@@ -489,7 +508,9 @@ public class GLX13 extends GLX12 {
             check(display);
             check(draw);
         }
+        long __start = FunctionProfiler.start();
         callPPNV(display, draw, event_mask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glXGetSelectedEvent ] ---
@@ -502,7 +523,9 @@ public class GLX13 extends GLX12 {
             check(display);
             check(draw);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, draw, event_mask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -532,7 +555,8 @@ public class GLX13 extends GLX12 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer nelements = stack.callocInt(1);
         try {
-            long __result = callPPPP(display, screen, attrib_list, memAddress(nelements), __functionAddress);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPP(display, screen, attrib_list, memAddress(nelements), __functionAddress));
             return memPointerBufferSafe(__result, nelements.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -548,7 +572,8 @@ public class GLX13 extends GLX12 {
             check(config);
             check(value, 1);
         }
-        return callPPPI(display, config, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(display, config, attribute, value, __functionAddress));
     }
 
     /** Array version of: {@link #glXCreateWindow CreateWindow} */
@@ -561,7 +586,8 @@ public class GLX13 extends GLX12 {
             check(config);
             checkNTSafe(attrib_list);
         }
-        return callPPNPP(display, config, win, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPNPP(display, config, win, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #glXCreatePixmap CreatePixmap} */
@@ -574,7 +600,8 @@ public class GLX13 extends GLX12 {
             check(config);
             checkNTSafe(attrib_list);
         }
-        return callPPNPP(display, config, pixmap, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPNPP(display, config, pixmap, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #glXCreatePbuffer CreatePbuffer} */
@@ -587,7 +614,8 @@ public class GLX13 extends GLX12 {
             check(config);
             checkNTSafe(attrib_list);
         }
-        return callPPPP(display, config, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPP(display, config, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #glXQueryDrawable QueryDrawable} */
@@ -599,7 +627,9 @@ public class GLX13 extends GLX12 {
             check(draw);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, draw, attribute, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glXQueryContext QueryContext} */
@@ -611,7 +641,8 @@ public class GLX13 extends GLX12 {
             check(ctx);
             check(value, 1);
         }
-        return callPPPI(display, ctx, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(display, ctx, attribute, value, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ public class GLX14 extends GLX13 {
         GLX_SAMPLE_BUFFERS = 0x186A0,
         GLX_SAMPLES        = 0x186A1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLX14.class, "glXGetProcAddress");
+
     protected GLX14() {
         throw new UnsupportedOperationException();
     }
@@ -40,7 +42,8 @@ public class GLX14 extends GLX13 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(procName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(procName, __functionAddress));
     }
 
     /**
@@ -40,6 +40,8 @@ public class GLXAMDGPUAssociation {
         GLX_GPU_NUM_RB_AMD                = 0x21A7,
         GLX_GPU_NUM_SPI_AMD               = 0x21A8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXAMDGPUAssociation.class, "glXBlitContextFramebufferAMD,glXCreateAssociatedContextAMD,glXCreateAssociatedContextAttribsAMD,glXDeleteAssociatedContextAMD,glXGetContextGPUIDAMD,glXGetCurrentAssociatedContextAMD,glXGetGPUIDsAMD,glXGetGPUInfoAMD,glXMakeAssociatedContextCurrentAMD");
+
     protected GLXAMDGPUAssociation() {
         throw new UnsupportedOperationException();
     }
@@ -60,7 +62,9 @@ public class GLXAMDGPUAssociation {
             check(__functionAddress);
             check(dstCtx);
         }
+        long __start = FunctionProfiler.start();
         callPV(dstCtx, srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glXCreateAssociatedContextAMD ] ---
@@ -73,7 +77,8 @@ public class GLXAMDGPUAssociation {
             check(__functionAddress);
             check(share_list);
         }
-        return callPP(id, share_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(id, share_list, __functionAddress));
     }
 
     // --- [ glXCreateAssociatedContextAttribsAMD ] ---
@@ -85,7 +90,8 @@ public class GLXAMDGPUAssociation {
             check(__functionAddress);
             check(share_context);
         }
-        return callPPP(id, share_context, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPP(id, share_context, attribList, __functionAddress));
     }
 
     /** Creates an associated context and requests a specific GL version. */
@@ -111,7 +117,8 @@ public class GLXAMDGPUAssociation {
             check(__functionAddress);
             check(ctx);
         }
-        return callPI(ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(ctx, __functionAddress)) != 0;
     }
 
     // --- [ glXGetContextGPUIDAMD ] ---
@@ -128,7 +135,8 @@ public class GLXAMDGPUAssociation {
             check(__functionAddress);
             check(ctx);
         }
-        return callPI(ctx, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(ctx, __functionAddress));
     }
 
     // --- [ glXGetCurrentAssociatedContextAMD ] ---
@@ -140,7 +148,8 @@ public class GLXAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callP(__functionAddress));
     }
 
     // --- [ glXGetGPUIDsAMD ] ---
@@ -152,7 +161,8 @@ public class GLXAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(maxCount, ids, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callI(maxCount, ids, __functionAddress));
     }
 
     // --- [ glXGetGPUInfoAMD ] ---
@@ -163,7 +173,8 @@ public class GLXAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(id, property, dataType, size, data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPI(id, property, dataType, size, data, __functionAddress));
     }
 
     /**
@@ -189,7 +200,8 @@ public class GLXAMDGPUAssociation {
             check(__functionAddress);
             check(ctx);
         }
-        return callPI(ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPI(ctx, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #glXCreateAssociatedContextAttribsAMD CreateAssociatedContextAttribsAMD} */
@@ -201,7 +213,8 @@ public class GLXAMDGPUAssociation {
             check(share_context);
             checkNT(attribList);
         }
-        return callPPP(id, share_context, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPP(id, share_context, attribList, __functionAddress));
     }
 
 }
\ No newline at end of file
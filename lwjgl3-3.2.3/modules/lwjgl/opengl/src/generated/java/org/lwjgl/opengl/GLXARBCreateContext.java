@@ -38,6 +38,8 @@ public class GLXARBCreateContext {
         GLX_CONTEXT_DEBUG_BIT_ARB              = 0x1,
         GLX_CONTEXT_FORWARD_COMPATIBLE_BIT_ARB = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXARBCreateContext.class, "glXCreateContextAttribsARB");
+
     protected GLXARBCreateContext() {
         throw new UnsupportedOperationException();
     }
@@ -58,7 +60,8 @@ public class GLXARBCreateContext {
             check(display);
             check(config);
         }
-        return callPPPPP(display, config, share_context, direct, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(display, config, share_context, direct, attrib_list, __functionAddress));
     }
 
     /**
@@ -107,7 +110,8 @@ public class GLXARBCreateContext {
             check(config);
             checkNTSafe(attrib_list);
         }
-        return callPPPPP(display, config, share_context, direct ? 1 : 0, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPP(display, config, share_context, direct ? 1 : 0, attrib_list, __functionAddress));
     }
 
 }
\ No newline at end of file
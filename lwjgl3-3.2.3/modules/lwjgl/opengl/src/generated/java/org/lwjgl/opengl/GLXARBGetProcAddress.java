@@ -23,6 +23,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class GLXARBGetProcAddress {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXARBGetProcAddress.class, "glXGetProcAddressARB");
+
     protected GLXARBGetProcAddress() {
         throw new UnsupportedOperationException();
     }
@@ -41,7 +43,8 @@ public class GLXARBGetProcAddress {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(procName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(procName, __functionAddress));
     }
 
     /**
@@ -28,6 +28,8 @@ public class GLXEXTImportContext {
         GLX_VISUAL_ID_EXT     = 0x800B,
         GLX_SCREEN_EXT        = 0x800C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXEXTImportContext.class, "glXGetCurrentDisplayEXT,glXQueryContextInfoEXT,glXGetContextIDEXT,glXImportContextEXT,glXFreeContextEXT");
+
     protected GLXEXTImportContext() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +49,8 @@ public class GLXEXTImportContext {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(__functionAddress));
     }
 
     // --- [ glXQueryContextInfoEXT ] ---
@@ -60,7 +63,8 @@ public class GLXEXTImportContext {
             check(display);
             check(context);
         }
-        return callPPPI(display, context, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(display, context, attribute, value, __functionAddress));
     }
 
     /**
@@ -92,7 +96,8 @@ public class GLXEXTImportContext {
             check(__functionAddress);
             check(context);
         }
-        return callPN(context, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPN(context, __functionAddress));
     }
 
     // --- [ glXImportContextEXT ] ---
@@ -110,7 +115,8 @@ public class GLXEXTImportContext {
             check(__functionAddress);
             check(display);
         }
-        return callPNP(display, contextID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPNP(display, contextID, __functionAddress));
     }
 
     // --- [ glXFreeContextEXT ] ---
@@ -128,7 +134,9 @@ public class GLXEXTImportContext {
             check(display);
             check(context);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, context, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glXQueryContextInfoEXT QueryContextInfoEXT} */
@@ -140,7 +148,8 @@ public class GLXEXTImportContext {
             check(context);
             check(value, 1);
         }
-        return callPPPI(display, context, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(display, context, attribute, value, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ public class GLXEXTSwapControl {
         GLX_SWAP_INTERVAL_EXT     = 0x20F1,
         GLX_MAX_SWAP_INTERVAL_EXT = 0x20F2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXEXTSwapControl.class, "glXSwapIntervalEXT");
+
     protected GLXEXTSwapControl() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,9 @@ public class GLXEXTSwapControl {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, drawable, interval, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -81,6 +81,8 @@ public class GLXEXTTextureFromPixmap {
         GLX_AUX8_EXT        = 0x20EA,
         GLX_AUX9_EXT        = 0x20EB;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXEXTTextureFromPixmap.class, "glXBindTexImageEXT,glXReleaseTexImageEXT");
+
     protected GLXEXTTextureFromPixmap() {
         throw new UnsupportedOperationException();
     }
@@ -101,7 +103,9 @@ public class GLXEXTTextureFromPixmap {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, drawable, buffer, attrib_list, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -136,7 +140,9 @@ public class GLXEXTTextureFromPixmap {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, drawable, buffer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glXBindTexImageEXT BindTexImageEXT} */
@@ -148,7 +154,9 @@ public class GLXEXTTextureFromPixmap {
             check(drawable);
             checkNTSafe(attrib_list);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, drawable, buffer, attrib_list, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class GLXNVCopyBuffer {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXNVCopyBuffer.class, "glXCopyBufferSubDataNV,glXNamedCopyBufferSubDataNV");
+
     protected GLXNVCopyBuffer() {
         throw new UnsupportedOperationException();
     }
@@ -38,7 +40,9 @@ public class GLXNVCopyBuffer {
             check(readCtx);
             check(writeCtx);
         }
+        long __start = FunctionProfiler.start();
         callPPPPPPV(display, readCtx, writeCtx, readTarget, writeTarget, readOffset, writeOffset, size, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glXNamedCopyBufferSubDataNV ] ---
@@ -52,7 +56,9 @@ public class GLXNVCopyBuffer {
             check(readCtx);
             check(writeCtx);
         }
+        long __start = FunctionProfiler.start();
         callPPPPPPV(display, readCtx, writeCtx, readBuffer, writeBuffer, readOffset, writeOffset, size, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class GLXNVCopyImage {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXNVCopyImage.class, "glXCopyImageSubDataNV");
+
     protected GLXNVCopyImage() {
         throw new UnsupportedOperationException();
     }
@@ -46,7 +48,9 @@ public class GLXNVCopyImage {
             check(__functionAddress);
             check(display);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, srcCtx, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstCtx, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, width, height, depth, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
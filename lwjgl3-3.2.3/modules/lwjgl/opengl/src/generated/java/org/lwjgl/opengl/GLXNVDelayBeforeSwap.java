@@ -21,6 +21,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class GLXNVDelayBeforeSwap {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXNVDelayBeforeSwap.class, "glXDelayBeforeSwapNV");
+
     protected GLXNVDelayBeforeSwap() {
         throw new UnsupportedOperationException();
     }
@@ -65,7 +67,8 @@ public class GLXNVDelayBeforeSwap {
             check(display);
             check(drawable);
         }
-        return callPPI(display, drawable, seconds, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(display, drawable, seconds, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
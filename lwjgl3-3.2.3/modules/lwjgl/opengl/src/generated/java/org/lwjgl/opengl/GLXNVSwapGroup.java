@@ -26,6 +26,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class GLXNVSwapGroup {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXNVSwapGroup.class, "glXJoinSwapGroupNV,glXBindSwapBarrierNV,glXQuerySwapGroupNV,glXQueryMaxSwapGroupsNV,glXQueryFrameCountNV,glXResetFrameCountNV");
+
     protected GLXNVSwapGroup() {
         throw new UnsupportedOperationException();
     }
@@ -48,7 +50,8 @@ public class GLXNVSwapGroup {
             check(display);
             check(drawable);
         }
-        return callPPI(display, drawable, group, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(display, drawable, group, __functionAddress)) != 0;
     }
 
     // --- [ glXBindSwapBarrierNV ] ---
@@ -61,7 +64,8 @@ public class GLXNVSwapGroup {
             check(__functionAddress);
             check(display);
         }
-        return callPI(display, group, barrier, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(display, group, barrier, __functionAddress)) != 0;
     }
 
     // --- [ glXQuerySwapGroupNV ] ---
@@ -74,7 +78,8 @@ public class GLXNVSwapGroup {
             check(display);
             check(drawable);
         }
-        return callPPPPI(display, drawable, group, barrier, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(display, drawable, group, barrier, __functionAddress));
     }
 
     /** @param display the connection to the X server */
@@ -96,7 +101,8 @@ public class GLXNVSwapGroup {
             check(__functionAddress);
             check(display);
         }
-        return callPPPI(display, screen, maxGroups, maxBarriers, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(display, screen, maxGroups, maxBarriers, __functionAddress));
     }
 
     /** @param display the connection to the X server */
@@ -118,7 +124,8 @@ public class GLXNVSwapGroup {
             check(__functionAddress);
             check(display);
         }
-        return callPPI(display, screen, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(display, screen, count, __functionAddress));
     }
 
     /** @param display the connection to the X server */
@@ -140,7 +147,8 @@ public class GLXNVSwapGroup {
             check(__functionAddress);
             check(display);
         }
-        return callPI(display, screen, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(display, screen, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #glXQuerySwapGroupNV QuerySwapGroupNV} */
@@ -154,7 +162,8 @@ public class GLXNVSwapGroup {
             check(group, 1);
             check(barrier, 1);
         }
-        return callPPPPI(display, drawable, group, barrier, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(display, drawable, group, barrier, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #glXQueryMaxSwapGroupsNV QueryMaxSwapGroupsNV} */
@@ -167,7 +176,8 @@ public class GLXNVSwapGroup {
             check(maxGroups, 1);
             check(maxBarriers, 1);
         }
-        return callPPPI(display, screen, maxGroups, maxBarriers, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(display, screen, maxGroups, maxBarriers, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #glXQueryFrameCountNV QueryFrameCountNV} */
@@ -179,7 +189,8 @@ public class GLXNVSwapGroup {
             check(display);
             check(count, 1);
         }
-        return callPPI(display, screen, count, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(display, screen, count, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class GLXSGIMakeCurrentRead {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGIMakeCurrentRead.class, "glXMakeCurrentReadSGI,glXGetCurrentReadDrawableSGI");
+
     protected GLXSGIMakeCurrentRead() {
         throw new UnsupportedOperationException();
     }
@@ -46,7 +48,8 @@ public class GLXSGIMakeCurrentRead {
             check(__functionAddress);
             check(display);
         }
-        return callPPPPI(display, draw, read, ctx, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(display, draw, read, ctx, __functionAddress)) != 0;
     }
 
     // --- [ glXGetCurrentReadDrawableSGI ] ---
@@ -58,7 +61,8 @@ public class GLXSGIMakeCurrentRead {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callP(__functionAddress));
     }
 
 }
\ No newline at end of file
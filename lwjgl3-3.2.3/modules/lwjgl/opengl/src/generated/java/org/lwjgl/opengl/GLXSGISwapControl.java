@@ -17,6 +17,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class GLXSGISwapControl {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGISwapControl.class, "glXSwapIntervalSGI");
+
     protected GLXSGISwapControl() {
         throw new UnsupportedOperationException();
     }
@@ -45,7 +47,8 @@ public class GLXSGISwapControl {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(interval, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callI(interval, __functionAddress));
     }
 
 }
\ No newline at end of file
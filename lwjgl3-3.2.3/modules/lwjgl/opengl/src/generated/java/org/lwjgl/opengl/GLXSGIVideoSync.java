@@ -20,6 +20,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class GLXSGIVideoSync {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGIVideoSync.class, "glXGetVideoSyncSGI,glXWaitVideoSyncSGI");
+
     protected GLXSGIVideoSync() {
         throw new UnsupportedOperationException();
     }
@@ -38,7 +40,8 @@ public class GLXSGIVideoSync {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(count, __functionAddress));
     }
 
     /**
@@ -62,7 +65,8 @@ public class GLXSGIVideoSync {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(divisor, remainder, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(divisor, remainder, count, __functionAddress));
     }
 
     /**
@@ -94,7 +98,8 @@ public class GLXSGIVideoSync {
             check(__functionAddress);
             check(count, 1);
         }
-        return callPI(count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(count, __functionAddress));
     }
 
     /** Array version of: {@link #glXWaitVideoSyncSGI WaitVideoSyncSGI} */
@@ -105,7 +110,8 @@ public class GLXSGIVideoSync {
             check(__functionAddress);
             check(count, 1);
         }
-        return callPI(divisor, remainder, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(divisor, remainder, count, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -66,6 +66,8 @@ public class GLXSGIXFBConfig {
         GLX_RGBA_TYPE_SGIX        = 0x8014,
         GLX_COLOR_INDEX_TYPE_SGIX = 0x8015;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGIXFBConfig.class, "glXGetFBConfigAttribSGIX,glXChooseFBConfigSGIX,glXCreateGLXPixmapWithConfigSGIX,glXCreateContextWithConfigSGIX,glXGetVisualFromFBConfigSGIX,glXGetFBConfigFromVisualSGIX");
+
     protected GLXSGIXFBConfig() {
         throw new UnsupportedOperationException();
     }
@@ -87,7 +89,8 @@ public class GLXSGIXFBConfig {
             check(display);
             check(config);
         }
-        return callPPPI(display, config, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(display, config, attribute, value, __functionAddress));
     }
 
     /**
@@ -118,7 +121,8 @@ public class GLXSGIXFBConfig {
             check(__functionAddress);
             check(display);
         }
-        return callPPPP(display, screen, attrib_list, nelements, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPP(display, screen, attrib_list, nelements, __functionAddress));
     }
 
     /**
@@ -161,7 +165,8 @@ public class GLXSGIXFBConfig {
             check(display);
             check(config);
         }
-        return callPPNP(display, config, pixmap, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPNP(display, config, pixmap, __functionAddress));
     }
 
     // --- [ glXCreateContextWithConfigSGIX ] ---
@@ -184,7 +189,8 @@ public class GLXSGIXFBConfig {
             check(config);
             check(share_list);
         }
-        return callPPPP(display, config, render_type, share_list, direct ? 1 : 0, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPP(display, config, render_type, share_list, direct ? 1 : 0, __functionAddress));
     }
 
     // --- [ glXGetVisualFromFBConfigSGIX ] ---
@@ -197,7 +203,8 @@ public class GLXSGIXFBConfig {
             check(display);
             check(config);
         }
-        return callPPP(display, config, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPP(display, config, __functionAddress));
     }
 
     /**
@@ -223,7 +230,8 @@ public class GLXSGIXFBConfig {
             check(display);
             XVisualInfo.validate(vis);
         }
-        return callPPP(display, vis, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPP(display, vis, __functionAddress));
     }
 
     /**
@@ -246,7 +254,8 @@ public class GLXSGIXFBConfig {
             check(config);
             check(value, 1);
         }
-        return callPPPI(display, config, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(display, config, attribute, value, __functionAddress));
     }
 
     /** Array version of: {@link #glXChooseFBConfigSGIX ChooseFBConfigSGIX} */
@@ -262,7 +271,8 @@ public class GLXSGIXFBConfig {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer nelements = stack.callocInt(1);
         try {
-            long __result = callPPPP(display, screen, attrib_list, memAddress(nelements), __functionAddress);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPP(display, screen, attrib_list, memAddress(nelements), __functionAddress));
             return memPointerBufferSafe(__result, nelements.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -76,6 +76,8 @@ public class GLXSGIXPbuffer {
         GLX_ACCUM_BUFFER_BIT_SGIX       = 0x80,
         GLX_SAMPLE_BUFFERS_BIT_SGIX     = 0x100;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGIXPbuffer.class, "glXCreateGLXPbufferSGIX,glXDestroyGLXPbufferSGIX,glXQueryGLXPbufferSGIX,glXSelectEventSGIX,glXGetSelectedEventSGIX");
+
     protected GLXSGIXPbuffer() {
         throw new UnsupportedOperationException();
     }
@@ -96,7 +98,8 @@ public class GLXSGIXPbuffer {
             check(display);
             check(config);
         }
-        return callPPPP(display, config, width, height, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(display, config, width, height, attrib_list, __functionAddress));
     }
 
     /**
@@ -131,7 +134,9 @@ public class GLXSGIXPbuffer {
             check(display);
             check(pbuf);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, pbuf, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glXQueryGLXPbufferSGIX ] ---
@@ -144,7 +149,9 @@ public class GLXSGIXPbuffer {
             check(display);
             check(pbuf);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, pbuf, attribute, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -178,7 +185,9 @@ public class GLXSGIXPbuffer {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPNV(display, drawable, mask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glXGetSelectedEventSGIX ] ---
@@ -191,7 +200,9 @@ public class GLXSGIXPbuffer {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, drawable, mask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -218,7 +229,8 @@ public class GLXSGIXPbuffer {
             check(config);
             checkNTSafe(attrib_list);
         }
-        return callPPPP(display, config, width, height, attrib_list, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(display, config, width, height, attrib_list, __functionAddress));
     }
 
     /** Array version of: {@link #glXQueryGLXPbufferSGIX QueryGLXPbufferSGIX} */
@@ -230,7 +242,9 @@ public class GLXSGIXPbuffer {
             check(pbuf);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, pbuf, attribute, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class GLXSGIXSwapBarrier {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGIXSwapBarrier.class, "glXBindSwapBarrierSGIX,glXQueryMaxSwapBarriersSGIX");
+
     protected GLXSGIXSwapBarrier() {
         throw new UnsupportedOperationException();
     }
@@ -49,7 +51,9 @@ public class GLXSGIXSwapBarrier {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPV(display, drawable, barrier, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glXQueryMaxSwapBarriersSGIX ] ---
@@ -61,7 +65,8 @@ public class GLXSGIXSwapBarrier {
             check(__functionAddress);
             check(display);
         }
-        return callPPI(display, screen, max, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(display, screen, max, __functionAddress));
     }
 
     /**
@@ -88,7 +93,8 @@ public class GLXSGIXSwapBarrier {
             check(display);
             check(max, 1);
         }
-        return callPPI(display, screen, max, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(display, screen, max, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class GLXSGIXSwapGroup {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLXSGIXSwapGroup.class, "glXJoinSwapGroupSGIX");
+
     protected GLXSGIXSwapGroup() {
         throw new UnsupportedOperationException();
     }
@@ -48,7 +50,9 @@ public class GLXSGIXSwapGroup {
             check(display);
             check(drawable);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(display, drawable, member, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
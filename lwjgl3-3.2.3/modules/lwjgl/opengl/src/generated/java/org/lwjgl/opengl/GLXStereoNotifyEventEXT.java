@@ -228,6 +228,19 @@ public class GLXStereoNotifyEventEXT extends Struct {
         @NativeType("Bool")
         public boolean stereo_tree() { return GLXStereoNotifyEventEXT.nstereo_tree(address()) != 0; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public GLXStereoNotifyEventEXT.Buffer getType(int[] dst) { gather(GLXStereoNotifyEventEXT.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public GLXStereoNotifyEventEXT.Buffer getType(IntBuffer dst) { gather(GLXStereoNotifyEventEXT.TYPE, dst); return this; }
+        /** Copies the {@code extension} field of the structs between the current position and limit to the specified array. */
+        public GLXStereoNotifyEventEXT.Buffer getExtension(int[] dst) { gather(GLXStereoNotifyEventEXT.EXTENSION, dst); return this; }
+        /** Copies the {@code extension} field of the structs between the current position and limit to the specified buffer. */
+        public GLXStereoNotifyEventEXT.Buffer getExtension(IntBuffer dst) { gather(GLXStereoNotifyEventEXT.EXTENSION, dst); return this; }
+        /** Copies the {@code evtype} field of the structs between the current position and limit to the specified array. */
+        public GLXStereoNotifyEventEXT.Buffer getEvtype(int[] dst) { gather(GLXStereoNotifyEventEXT.EVTYPE, dst); return this; }
+        /** Copies the {@code evtype} field of the structs between the current position and limit to the specified buffer. */
+        public GLXStereoNotifyEventEXT.Buffer getEvtype(IntBuffer dst) { gather(GLXStereoNotifyEventEXT.EVTYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -220,6 +220,24 @@ public class GPU_DEVICE extends Struct implements NativeResource {
         return wrap(GPU_DEVICE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code GPU_DEVICE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static GPU_DEVICE malloc(MemoryArena arena) {
+        return wrap(GPU_DEVICE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code GPU_DEVICE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static GPU_DEVICE calloc(MemoryArena arena) {
+        return wrap(GPU_DEVICE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link GPU_DEVICE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class GPU_DEVICE extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link GPU_DEVICE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static GPU_DEVICE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link GPU_DEVICE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static GPU_DEVICE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #cb}. */
@@ -334,6 +372,15 @@ public class GPU_DEVICE extends Struct implements NativeResource {
         /** Returns a {@link RECT} view of the {@code rcVirtualScreen} field. */
         public RECT rcVirtualScreen() { return GPU_DEVICE.nrcVirtualScreen(address()); }
 
+        /** Copies the {@code cb} field of the structs between the current position and limit to the specified array. */
+        public GPU_DEVICE.Buffer getCb(int[] dst) { gather(GPU_DEVICE.CB, dst); return this; }
+        /** Copies the {@code cb} field of the structs between the current position and limit to the specified buffer. */
+        public GPU_DEVICE.Buffer getCb(IntBuffer dst) { gather(GPU_DEVICE.CB, dst); return this; }
+        /** Copies the {@code Flags} field of the structs between the current position and limit to the specified array. */
+        public GPU_DEVICE.Buffer getFlags(int[] dst) { gather(GPU_DEVICE.FLAGS, dst); return this; }
+        /** Copies the {@code Flags} field of the structs between the current position and limit to the specified buffer. */
+        public GPU_DEVICE.Buffer getFlags(IntBuffer dst) { gather(GPU_DEVICE.FLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
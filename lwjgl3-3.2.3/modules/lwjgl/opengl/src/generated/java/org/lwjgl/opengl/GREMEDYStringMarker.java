@@ -31,6 +31,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class GREMEDYStringMarker {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GREMEDYStringMarker.class, "glStringMarkerGREMEDY");
+
     static { GL.initialize(); }
 
     protected GREMEDYStringMarker() {
@@ -60,7 +62,9 @@ public class GREMEDYStringMarker {
      * @param string a pointer to the array of bytes representing the marker being inserted, which need not be null-terminated
      */
     public static void glStringMarkerGREMEDY(@NativeType("GLchar const *") ByteBuffer string) {
+        long __start = FunctionProfiler.start();
         nglStringMarkerGREMEDY(string.remaining(), memAddress(string));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -74,7 +78,9 @@ public class GREMEDYStringMarker {
         try {
             int stringEncodedLength = stack.nUTF8(string, false);
             long stringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglStringMarkerGREMEDY(stringEncodedLength, stringEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -42,6 +42,8 @@ public class INTELMapTexture {
         GL_LAYOUT_LINEAR_INTEL            = 1,
         GL_LAYOUT_LINEAR_CPU_CACHED_INTEL = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELMapTexture.class, "glMapTexture2DINTEL");
+
     static { GL.initialize(); }
 
     protected INTELMapTexture() {
@@ -104,7 +106,8 @@ public class INTELMapTexture {
             check(stride, 1);
             check(layout, 1);
         }
-        long __result = nglMapTexture2DINTEL(texture, level, access, memAddress(stride), memAddress(layout));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapTexture2DINTEL(texture, level, access, memAddress(stride), memAddress(layout)));
         return memByteBufferSafe(__result, getStride(stride) * GLChecks.getTexLevelParameteri(texture, GL11.GL_TEXTURE_2D, level, GL11.GL_TEXTURE_HEIGHT));
     }
 
@@ -127,7 +130,8 @@ public class INTELMapTexture {
             check(stride, 1);
             check(layout, 1);
         }
-        long __result = nglMapTexture2DINTEL(texture, level, access, memAddress(stride), memAddress(layout));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapTexture2DINTEL(texture, level, access, memAddress(stride), memAddress(layout)));
         int length = getStride(stride) * GLChecks.getTexLevelParameteri(texture, GL11.GL_TEXTURE_2D, level, GL11.GL_TEXTURE_HEIGHT);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -151,7 +155,8 @@ public class INTELMapTexture {
             check(stride, 1);
             check(layout, 1);
         }
-        long __result = nglMapTexture2DINTEL(texture, level, access, memAddress(stride), memAddress(layout));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapTexture2DINTEL(texture, level, access, memAddress(stride), memAddress(layout)));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -165,7 +170,8 @@ public class INTELMapTexture {
             check(stride, 1);
             check(layout, 1);
         }
-        long __result = callPPP(texture, level, access, stride, layout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, callPPP(texture, level, access, stride, layout, __functionAddress));
         return memByteBufferSafe(__result, getStride(stride) * GLChecks.getTexLevelParameteri(texture, GL11.GL_TEXTURE_2D, level, GL11.GL_TEXTURE_HEIGHT));
     }
 
@@ -179,7 +185,8 @@ public class INTELMapTexture {
             check(stride, 1);
             check(layout, 1);
         }
-        long __result = callPPP(texture, level, access, stride, layout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, callPPP(texture, level, access, stride, layout, __functionAddress));
         int length = getStride(stride) * GLChecks.getTexLevelParameteri(texture, GL11.GL_TEXTURE_2D, level, GL11.GL_TEXTURE_HEIGHT);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -194,7 +201,8 @@ public class INTELMapTexture {
             check(stride, 1);
             check(layout, 1);
         }
-        long __result = callPPP(texture, level, access, stride, layout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, callPPP(texture, level, access, stride, layout, __functionAddress));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
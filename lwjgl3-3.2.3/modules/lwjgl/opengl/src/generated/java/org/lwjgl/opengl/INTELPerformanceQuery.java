@@ -82,6 +82,8 @@ public class INTELPerformanceQuery {
     /** Accepted by the {@code pname} parameter of GetBooleanv. */
     public static final int GL_PERFQUERY_GPA_EXTENDED_COUNTERS_INTEL = 0x9500;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELPerformanceQuery.class, "glCreatePerfQueryINTEL,glGetFirstPerfQueryIdINTEL,glGetNextPerfQueryIdINTEL,glGetPerfCounterInfoINTEL,glGetPerfQueryDataINTEL,glGetPerfQueryIdByNameINTEL,glGetPerfQueryInfoINTEL");
+
     static { GL.initialize(); }
 
     protected INTELPerformanceQuery() {
@@ -108,7 +110,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(queryHandle, 1);
         }
+        long __start = FunctionProfiler.start();
         nglCreatePerfQueryINTEL(queryId, memAddress(queryHandle));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -116,7 +120,9 @@ public class INTELPerformanceQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer queryHandle = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreatePerfQueryINTEL(queryId, memAddress(queryHandle));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return queryHandle.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -139,7 +145,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFirstPerfQueryIdINTEL(memAddress(queryId));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -147,7 +155,9 @@ public class INTELPerformanceQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer queryId = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFirstPerfQueryIdINTEL(memAddress(queryId));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return queryId.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -162,7 +172,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(nextQueryId, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNextPerfQueryIdINTEL(queryId, memAddress(nextQueryId));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -170,7 +182,9 @@ public class INTELPerformanceQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer nextQueryId = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNextPerfQueryIdINTEL(queryId, memAddress(nextQueryId));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return nextQueryId.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -189,7 +203,9 @@ public class INTELPerformanceQuery {
             check(counterDataTypeEnum, 1);
             check(rawCounterMaxValue, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfCounterInfoINTEL(queryId, counterId, counterName.remaining(), memAddress(counterName), counterDesc.remaining(), memAddress(counterDesc), memAddress(counterOffset), memAddress(counterDataSize), memAddress(counterTypeEnum), memAddress(counterDataTypeEnum), memAddress(rawCounterMaxValue));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetPerfQueryDataINTEL ] ---
@@ -200,7 +216,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(bytesWritten, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfQueryDataINTEL(queryHandle, flags, data.remaining(), memAddress(data), memAddress(bytesWritten));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetPerfQueryIdByNameINTEL ] ---
@@ -212,7 +230,9 @@ public class INTELPerformanceQuery {
             checkNT1(queryName);
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfQueryIdByNameINTEL(memAddress(queryName), memAddress(queryId));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     public static void glGetPerfQueryIdByNameINTEL(@NativeType("GLchar *") CharSequence queryName, @NativeType("GLuint *") IntBuffer queryId) {
@@ -223,7 +243,9 @@ public class INTELPerformanceQuery {
         try {
             stack.nASCII(queryName, true);
             long queryNameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglGetPerfQueryIdByNameINTEL(queryNameEncoded, memAddress(queryId));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -236,7 +258,9 @@ public class INTELPerformanceQuery {
             stack.nASCII(queryName, true);
             long queryNameEncoded = stack.getPointerAddress();
             IntBuffer queryId = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetPerfQueryIdByNameINTEL(queryNameEncoded, memAddress(queryId));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return queryId.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -254,7 +278,9 @@ public class INTELPerformanceQuery {
             check(noInstances, 1);
             check(capsMask, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfQueryInfoINTEL(queryId, queryName.remaining(), memAddress(queryName), memAddress(dataSize), memAddress(noCounters), memAddress(noInstances), memAddress(capsMask));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glCreatePerfQueryINTEL CreatePerfQueryINTEL} */
@@ -264,7 +290,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(queryHandle, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(queryId, queryHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetFirstPerfQueryIdINTEL GetFirstPerfQueryIdINTEL} */
@@ -274,7 +302,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(queryId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetNextPerfQueryIdINTEL GetNextPerfQueryIdINTEL} */
@@ -284,7 +314,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(nextQueryId, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(queryId, nextQueryId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetPerfCounterInfoINTEL GetPerfCounterInfoINTEL} */
@@ -298,7 +330,9 @@ public class INTELPerformanceQuery {
             check(counterDataTypeEnum, 1);
             check(rawCounterMaxValue, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPPPPV(queryId, counterId, counterName.remaining(), memAddress(counterName), counterDesc.remaining(), memAddress(counterDesc), counterOffset, counterDataSize, counterTypeEnum, counterDataTypeEnum, rawCounterMaxValue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetPerfQueryDataINTEL GetPerfQueryDataINTEL} */
@@ -308,7 +342,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(bytesWritten, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(queryHandle, flags, data.remaining(), memAddress(data), bytesWritten, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetPerfQueryIdByNameINTEL GetPerfQueryIdByNameINTEL} */
@@ -319,7 +355,9 @@ public class INTELPerformanceQuery {
             checkNT1(queryName);
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(memAddress(queryName), queryId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetPerfQueryIdByNameINTEL GetPerfQueryIdByNameINTEL} */
@@ -333,7 +371,9 @@ public class INTELPerformanceQuery {
         try {
             stack.nASCII(queryName, true);
             long queryNameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             callPPV(queryNameEncoded, queryId, __functionAddress);
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -349,7 +389,9 @@ public class INTELPerformanceQuery {
             check(noInstances, 1);
             check(capsMask, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPPV(queryId, queryName.remaining(), memAddress(queryName), dataSize, noCounters, noInstances, capsMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
@@ -30,6 +30,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVBindlessMultiDrawIndirect {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVBindlessMultiDrawIndirect.class, "glMultiDrawArraysIndirectBindlessNV,glMultiDrawElementsIndirectBindlessNV");
+
     static { GL.initialize(); }
 
     protected NVBindlessMultiDrawIndirect() {
@@ -74,7 +76,9 @@ public class NVBindlessMultiDrawIndirect {
         if (CHECKS) {
             check(indirect, drawCount * (stride == 0 ? (16 + vertexBufferCount * 24) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectBindlessNV(mode, memAddress(indirect), drawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -101,7 +105,9 @@ public class NVBindlessMultiDrawIndirect {
      * @param vertexBufferCount the number of vertex buffers in the {@code DrawArraysIndirectBindlessCommandNV} structure
      */
     public static void glMultiDrawArraysIndirectBindlessNV(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect, @NativeType("GLsizei") int drawCount, @NativeType("GLsizei") int stride, @NativeType("GLint") int vertexBufferCount) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectBindlessNV(mode, indirect, drawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElementsIndirectBindlessNV ] ---
@@ -139,7 +145,9 @@ public class NVBindlessMultiDrawIndirect {
         if (CHECKS) {
             check(indirect, drawCount * (stride == 0 ? ((vertexBufferCount + 2) * 24) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectBindlessNV(mode, type, memAddress(indirect), drawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -169,7 +177,9 @@ public class NVBindlessMultiDrawIndirect {
      * @param vertexBufferCount the number of vertex buffers in the {@code DrawElementsIndirectBindlessCommandNV} structure
      */
     public static void glMultiDrawElementsIndirectBindlessNV(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect, @NativeType("GLsizei") int drawCount, @NativeType("GLsizei") int stride, @NativeType("GLint") int vertexBufferCount) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectBindlessNV(mode, type, indirect, drawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
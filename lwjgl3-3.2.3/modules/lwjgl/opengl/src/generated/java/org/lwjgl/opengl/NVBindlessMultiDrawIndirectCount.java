@@ -22,6 +22,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVBindlessMultiDrawIndirectCount {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVBindlessMultiDrawIndirectCount.class, "glMultiDrawArraysIndirectBindlessCountNV,glMultiDrawElementsIndirectBindlessCountNV");
+
     static { GL.initialize(); }
 
     protected NVBindlessMultiDrawIndirectCount() {
@@ -56,7 +58,9 @@ public class NVBindlessMultiDrawIndirectCount {
         if (CHECKS) {
             check(indirect, maxDrawCount * (stride == 0 ? (16 + vertexBufferCount * 24) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectBindlessCountNV(mode, memAddress(indirect), drawCount, maxDrawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -73,7 +77,9 @@ public class NVBindlessMultiDrawIndirectCount {
      * @param vertexBufferCount the number of vertex buffers in the DrawArraysIndirectBindlessCommandNV structure
      */
     public static void glMultiDrawArraysIndirectBindlessCountNV(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect, @NativeType("GLintptr") long drawCount, @NativeType("GLsizei") int maxDrawCount, @NativeType("GLsizei") int stride, @NativeType("GLint") int vertexBufferCount) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectBindlessCountNV(mode, indirect, drawCount, maxDrawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElementsIndirectBindlessCountNV ] ---
@@ -99,7 +105,9 @@ public class NVBindlessMultiDrawIndirectCount {
         if (CHECKS) {
             check(indirect, maxDrawCount * (stride == 0 ? ((vertexBufferCount + 2) * 24) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectBindlessCountNV(mode, type, memAddress(indirect), drawCount, maxDrawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -117,7 +125,9 @@ public class NVBindlessMultiDrawIndirectCount {
      * @param vertexBufferCount the number of vertex buffers in the DrawElementsIndirectBindlessCommandNV structure
      */
     public static void glMultiDrawElementsIndirectBindlessCountNV(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect, @NativeType("GLintptr") long drawCount, @NativeType("GLsizei") int maxDrawCount, @NativeType("GLsizei") int stride, @NativeType("GLint") int vertexBufferCount) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectBindlessCountNV(mode, type, indirect, drawCount, maxDrawCount, stride, vertexBufferCount);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
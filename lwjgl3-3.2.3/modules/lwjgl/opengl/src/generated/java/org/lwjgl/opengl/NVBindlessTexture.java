@@ -63,6 +63,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVBindlessTexture {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVBindlessTexture.class, "glUniformHandleui64vNV,glProgramUniformHandleui64vNV");
+
     static { GL.initialize(); }
 
     protected NVBindlessTexture() {
@@ -252,7 +254,9 @@ public class NVBindlessTexture {
      * @param values   a buffer from which to load the handles
      */
     public static void glUniformHandleui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer values) {
+        long __start = FunctionProfiler.start();
         nglUniformHandleui64vNV(location, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramUniformHandleui64NV ] ---
@@ -283,7 +287,9 @@ public class NVBindlessTexture {
      * @param values   a buffer from which to load the handles
      */
     public static void glProgramUniformHandleui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer values) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformHandleui64vNV(program, location, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glIsTextureHandleResidentNV ] ---
@@ -312,7 +318,9 @@ public class NVBindlessTexture {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glProgramUniformHandleui64vNV ProgramUniformHandleui64vNV} */
@@ -321,7 +329,9 @@ public class NVBindlessTexture {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -178,6 +178,8 @@ public class NVCommandList {
         GL_SCISSOR_COMMAND_NV                 = 0x11,
         GL_FRONT_FACE_COMMAND_NV              = 0x12;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVCommandList.class, "glCreateStatesNV,glDeleteStatesNV,glDrawCommandsNV,glDrawCommandsAddressNV,glDrawCommandsStatesNV,glDrawCommandsStatesAddressNV,glCreateCommandListsNV,glDeleteCommandListsNV,glListDrawCommandsStatesClientNV");
+
     static { GL.initialize(); }
 
     protected NVCommandList() {
@@ -208,7 +210,9 @@ public class NVCommandList {
      * @param states the buffer in which to write the created state object names
      */
     public static void glCreateStatesNV(@NativeType("GLuint *") IntBuffer states) {
+        long __start = FunctionProfiler.start();
         nglCreateStatesNV(states.remaining(), memAddress(states));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Returns {@code n} previously unused state object names in {@code states}, and creates a state object in the initial state for each name. */
@@ -217,7 +221,9 @@ public class NVCommandList {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer states = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateStatesNV(1, memAddress(states));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return states.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -240,7 +246,9 @@ public class NVCommandList {
      * @param states the buffer from which to read the state object names to delete
      */
     public static void glDeleteStatesNV(@NativeType("GLuint const *") IntBuffer states) {
+        long __start = FunctionProfiler.start();
         nglDeleteStatesNV(states.remaining(), memAddress(states));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -251,7 +259,9 @@ public class NVCommandList {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer states = stack.ints(state);
+            long __start = FunctionProfiler.start();
             nglDeleteStatesNV(1, memAddress(states));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -339,7 +349,9 @@ public class NVCommandList {
         if (CHECKS) {
             check(sizes, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglDrawCommandsNV(primitiveMode, buffer, memAddress(indirects), memAddress(sizes), indirects.remaining());
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glDrawCommandsAddressNV ] ---
@@ -363,7 +375,9 @@ public class NVCommandList {
         if (CHECKS) {
             check(sizes, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglDrawCommandsAddressNV(primitiveMode, memAddress(indirects), memAddress(sizes), indirects.remaining());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glDrawCommandsStatesNV ] ---
@@ -393,7 +407,9 @@ public class NVCommandList {
             check(states, indirects.remaining());
             check(fbos, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglDrawCommandsStatesNV(buffer, memAddress(indirects), memAddress(sizes), memAddress(states), memAddress(fbos), indirects.remaining());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glDrawCommandsStatesAddressNV ] ---
@@ -422,7 +438,9 @@ public class NVCommandList {
             check(states, indirects.remaining());
             check(fbos, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglDrawCommandsStatesAddressNV(memAddress(indirects), memAddress(sizes), memAddress(states), memAddress(fbos), indirects.remaining());
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glCreateCommandListsNV ] ---
@@ -440,7 +458,9 @@ public class NVCommandList {
      * @param lists the buffer in which to return the created command list names
      */
     public static void glCreateCommandListsNV(@NativeType("GLuint *") IntBuffer lists) {
+        long __start = FunctionProfiler.start();
         nglCreateCommandListsNV(lists.remaining(), memAddress(lists));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Returns {@code n} previously unused command list names in {@code lists}, and creates a command list in the initial state for each name. */
@@ -449,7 +469,9 @@ public class NVCommandList {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer lists = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateCommandListsNV(1, memAddress(lists));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return lists.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -472,7 +494,9 @@ public class NVCommandList {
      * @param lists the buffer from which to read the command list names to delete
      */
     public static void glDeleteCommandListsNV(@NativeType("GLuint const *") IntBuffer lists) {
+        long __start = FunctionProfiler.start();
         nglDeleteCommandListsNV(lists.remaining(), memAddress(lists));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -483,7 +507,9 @@ public class NVCommandList {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer lists = stack.ints(list);
+            long __start = FunctionProfiler.start();
             nglDeleteCommandListsNV(1, memAddress(lists));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -538,7 +564,9 @@ public class NVCommandList {
             check(states, indirects.remaining());
             check(fbos, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglListDrawCommandsStatesClientNV(list, segment, memAddress(indirects), memAddress(sizes), memAddress(states), memAddress(fbos), indirects.remaining());
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glCommandListSegmentsNV ] ---
@@ -579,7 +607,9 @@ public class NVCommandList {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(states.length, states, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glDeleteStatesNV DeleteStatesNV} */
@@ -588,7 +618,9 @@ public class NVCommandList {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(states.length, states, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glDrawCommandsNV DrawCommandsNV} */
@@ -598,7 +630,9 @@ public class NVCommandList {
             check(__functionAddress);
             check(sizes, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(primitiveMode, buffer, memAddress(indirects), sizes, indirects.remaining(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glDrawCommandsAddressNV DrawCommandsAddressNV} */
@@ -608,7 +642,9 @@ public class NVCommandList {
             check(__functionAddress);
             check(sizes, indirects.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(primitiveMode, indirects, sizes, indirects.length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glDrawCommandsStatesNV DrawCommandsStatesNV} */
@@ -620,7 +656,9 @@ public class NVCommandList {
             check(states, indirects.remaining());
             check(fbos, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(buffer, memAddress(indirects), sizes, states, fbos, indirects.remaining(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glDrawCommandsStatesAddressNV DrawCommandsStatesAddressNV} */
@@ -632,7 +670,9 @@ public class NVCommandList {
             check(states, indirects.length);
             check(fbos, indirects.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(indirects, sizes, states, fbos, indirects.length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glCreateCommandListsNV CreateCommandListsNV} */
@@ -641,7 +681,9 @@ public class NVCommandList {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(lists.length, lists, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glDeleteCommandListsNV DeleteCommandListsNV} */
@@ -650,7 +692,9 @@ public class NVCommandList {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(lists.length, lists, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glListDrawCommandsStatesClientNV ListDrawCommandsStatesClientNV} */
@@ -662,7 +706,9 @@ public class NVCommandList {
             check(states, indirects.remaining());
             check(fbos, indirects.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(list, segment, memAddress(indirects), memAddress(sizes), states, fbos, indirects.remaining(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
 }
\ No newline at end of file
@@ -33,6 +33,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVDrawVulkanImage {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVDrawVulkanImage.class, "glGetVkProcAddrNV");
+
     static { GL.initialize(); }
 
     protected NVDrawVulkanImage() {
@@ -79,7 +81,8 @@ public class NVDrawVulkanImage {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetVkProcAddrNV(memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglGetVkProcAddrNV(memAddress(name)));
     }
 
     /**
@@ -93,7 +96,8 @@ public class NVDrawVulkanImage {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetVkProcAddrNV(nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nglGetVkProcAddrNV(nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -58,6 +58,8 @@ public class NVExplicitMultisample {
         GL_INT_SAMPLER_RENDERBUFFER_NV          = 0x8E57,
         GL_UNSIGNED_INT_SAMPLER_RENDERBUFFER_NV = 0x8E58;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVExplicitMultisample.class, "glGetMultisamplefvNV");
+
     static { GL.initialize(); }
 
     protected NVExplicitMultisample() {
@@ -78,7 +80,9 @@ public class NVExplicitMultisample {
         if (CHECKS) {
             check(val, 2);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultisamplefvNV(pname, index, memAddress(val));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glSampleMaskIndexedNV ] ---
@@ -96,7 +100,9 @@ public class NVExplicitMultisample {
             check(__functionAddress);
             check(val, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -48,6 +48,8 @@ public class NVFramebufferMixedSamples {
         GL_COVERAGE_MODULATION_NV                = 0x9332,
         GL_COVERAGE_MODULATION_TABLE_SIZE_NV     = 0x9333;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVFramebufferMixedSamples.class, "glCoverageModulationTableNV,glGetCoverageModulationTableNV");
+
     static { GL.initialize(); }
 
     protected NVFramebufferMixedSamples() {
@@ -107,7 +109,9 @@ public class NVFramebufferMixedSamples {
     public static native void nglCoverageModulationTableNV(int n, long v);
 
     public static void glCoverageModulationTableNV(@NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglCoverageModulationTableNV(v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetCoverageModulationTableNV ] ---
@@ -115,7 +119,9 @@ public class NVFramebufferMixedSamples {
     public static native void nglGetCoverageModulationTableNV(int bufsize, long v);
 
     public static void glGetCoverageModulationTableNV(@NativeType("GLfloat *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglGetCoverageModulationTableNV(v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glCoverageModulationNV ] ---
@@ -128,7 +134,9 @@ public class NVFramebufferMixedSamples {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetCoverageModulationTableNV GetCoverageModulationTableNV} */
@@ -137,7 +145,9 @@ public class NVFramebufferMixedSamples {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -63,6 +63,8 @@ public class NVGPUMulticast {
     /** Accepted by the {@code pname} parameter of GetMultisamplefv. */
     public static final int GL_MULTICAST_PROGRAMMABLE_SAMPLE_LOCATION_NV = 0x9549;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVGPUMulticast.class, "glMulticastBufferSubDataNV,glMulticastFramebufferSampleLocationsfvNV,glMulticastGetQueryObjectivNV,glMulticastGetQueryObjectuivNV,glMulticastGetQueryObjecti64vNV,glMulticastGetQueryObjectui64vNV");
+
     static { GL.initialize(); }
 
     protected NVGPUMulticast() {
@@ -88,23 +90,33 @@ public class NVGPUMulticast {
     public static native void nglMulticastBufferSubDataNV(int gpuMask, int buffer, long offset, long size, long data);
 
     public static void glMulticastBufferSubDataNV(@NativeType("GLbitfield") int gpuMask, @NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglMulticastBufferSubDataNV(gpuMask, buffer, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glMulticastBufferSubDataNV(@NativeType("GLbitfield") int gpuMask, @NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglMulticastBufferSubDataNV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glMulticastBufferSubDataNV(@NativeType("GLbitfield") int gpuMask, @NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglMulticastBufferSubDataNV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glMulticastBufferSubDataNV(@NativeType("GLbitfield") int gpuMask, @NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglMulticastBufferSubDataNV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glMulticastBufferSubDataNV(@NativeType("GLbitfield") int gpuMask, @NativeType("GLuint") int buffer, @NativeType("GLintptr") long offset, @NativeType("void const *") DoubleBuffer data) {
+        long __start = FunctionProfiler.start();
         nglMulticastBufferSubDataNV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.remaining()) << 3, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMulticastCopyBufferSubDataNV ] ---
@@ -124,7 +136,9 @@ public class NVGPUMulticast {
     public static native void nglMulticastFramebufferSampleLocationsfvNV(int gpu, int framebuffer, int start, int count, long v);
 
     public static void glMulticastFramebufferSampleLocationsfvNV(@NativeType("GLuint") int gpu, @NativeType("GLuint") int framebuffer, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglMulticastFramebufferSampleLocationsfvNV(gpu, framebuffer, start, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glMulticastBarrierNV ] ---
@@ -143,7 +157,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMulticastGetQueryObjectivNV(gpu, id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -151,7 +167,9 @@ public class NVGPUMulticast {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglMulticastGetQueryObjectivNV(gpu, id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -166,7 +184,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMulticastGetQueryObjectuivNV(gpu, id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -174,7 +194,9 @@ public class NVGPUMulticast {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglMulticastGetQueryObjectuivNV(gpu, id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -189,7 +211,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMulticastGetQueryObjecti64vNV(gpu, id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -197,7 +221,9 @@ public class NVGPUMulticast {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglMulticastGetQueryObjecti64vNV(gpu, id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -212,7 +238,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMulticastGetQueryObjectui64vNV(gpu, id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -220,7 +248,9 @@ public class NVGPUMulticast {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglMulticastGetQueryObjectui64vNV(gpu, id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -233,7 +263,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMulticastBufferSubDataNV MulticastBufferSubDataNV} */
@@ -242,7 +274,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMulticastBufferSubDataNV MulticastBufferSubDataNV} */
@@ -251,7 +285,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMulticastBufferSubDataNV MulticastBufferSubDataNV} */
@@ -260,7 +296,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(gpuMask, buffer, offset, Integer.toUnsignedLong(data.length) << 3, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMulticastFramebufferSampleLocationsfvNV MulticastFramebufferSampleLocationsfvNV} */
@@ -269,7 +307,9 @@ public class NVGPUMulticast {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, framebuffer, start, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMulticastGetQueryObjectivNV MulticastGetQueryObjectivNV} */
@@ -279,7 +319,9 @@ public class NVGPUMulticast {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glMulticastGetQueryObjectuivNV MulticastGetQueryObjectuivNV} */
@@ -289,7 +331,9 @@ public class NVGPUMulticast {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glMulticastGetQueryObjecti64vNV MulticastGetQueryObjecti64vNV} */
@@ -299,7 +343,9 @@ public class NVGPUMulticast {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glMulticastGetQueryObjectui64vNV MulticastGetQueryObjectui64vNV} */
@@ -309,7 +355,9 @@ public class NVGPUMulticast {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -92,6 +92,8 @@ public class NVGPUShader5 {
         GL_FLOAT16_VEC3_NV        = 0x8FFA,
         GL_FLOAT16_VEC4_NV        = 0x8FFB;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVGPUShader5.class, "glUniform1i64vNV,glUniform2i64vNV,glUniform3i64vNV,glUniform4i64vNV,glUniform1ui64vNV,glUniform2ui64vNV,glUniform3ui64vNV,glUniform4ui64vNV,glGetUniformi64vNV,glProgramUniform1i64vNV,glProgramUniform2i64vNV,glProgramUniform3i64vNV,glProgramUniform4i64vNV,glProgramUniform1ui64vNV,glProgramUniform2ui64vNV,glProgramUniform3ui64vNV,glProgramUniform4ui64vNV");
+
     static { GL.initialize(); }
 
     protected NVGPUShader5() {
@@ -143,7 +145,9 @@ public class NVGPUShader5 {
     public static native void nglUniform1i64vNV(int location, int count, long value);
 
     public static void glUniform1i64vNV(@NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1i64vNV(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glUniform2i64vNV ] ---
@@ -151,7 +155,9 @@ public class NVGPUShader5 {
     public static native void nglUniform2i64vNV(int location, int count, long value);
 
     public static void glUniform2i64vNV(@NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2i64vNV(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniform3i64vNV ] ---
@@ -159,7 +165,9 @@ public class NVGPUShader5 {
     public static native void nglUniform3i64vNV(int location, int count, long value);
 
     public static void glUniform3i64vNV(@NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3i64vNV(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glUniform4i64vNV ] ---
@@ -167,7 +175,9 @@ public class NVGPUShader5 {
     public static native void nglUniform4i64vNV(int location, int count, long value);
 
     public static void glUniform4i64vNV(@NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4i64vNV(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniform1ui64NV ] ---
@@ -191,7 +201,9 @@ public class NVGPUShader5 {
     public static native void nglUniform1ui64vNV(int location, int count, long value);
 
     public static void glUniform1ui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1ui64vNV(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glUniform2ui64vNV ] ---
@@ -199,7 +211,9 @@ public class NVGPUShader5 {
     public static native void nglUniform2ui64vNV(int location, int count, long value);
 
     public static void glUniform2ui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64EXT *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2ui64vNV(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glUniform3ui64vNV ] ---
@@ -207,7 +221,9 @@ public class NVGPUShader5 {
     public static native void nglUniform3ui64vNV(int location, int count, long value);
 
     public static void glUniform3ui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3ui64vNV(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glUniform4ui64vNV ] ---
@@ -215,7 +231,9 @@ public class NVGPUShader5 {
     public static native void nglUniform4ui64vNV(int location, int count, long value);
 
     public static void glUniform4ui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4ui64vNV(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glGetUniformi64vNV ] ---
@@ -226,7 +244,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformi64vNV(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     @NativeType("void")
@@ -234,7 +254,9 @@ public class NVGPUShader5 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformi64vNV(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -277,7 +299,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform1i64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform1i64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1i64vNV(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glProgramUniform2i64vNV ] ---
@@ -285,7 +309,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform2i64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform2i64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2i64vNV(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glProgramUniform3i64vNV ] ---
@@ -293,7 +319,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform3i64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform3i64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3i64vNV(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glProgramUniform4i64vNV ] ---
@@ -301,7 +329,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform4i64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform4i64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4i64vNV(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glProgramUniform1ui64NV ] ---
@@ -325,7 +355,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform1ui64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform1ui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1ui64vNV(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glProgramUniform2ui64vNV ] ---
@@ -333,7 +365,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform2ui64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform2ui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2ui64vNV(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glProgramUniform3ui64vNV ] ---
@@ -341,7 +375,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform3ui64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform3ui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3ui64vNV(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glProgramUniform4ui64vNV ] ---
@@ -349,7 +385,9 @@ public class NVGPUShader5 {
     public static native void nglProgramUniform4ui64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniform4ui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4ui64vNV(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glUniform1i64vNV Uniform1i64vNV} */
@@ -358,7 +396,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glUniform2i64vNV Uniform2i64vNV} */
@@ -367,7 +407,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glUniform3i64vNV Uniform3i64vNV} */
@@ -376,7 +418,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glUniform4i64vNV Uniform4i64vNV} */
@@ -385,7 +429,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glUniform1ui64vNV Uniform1ui64vNV} */
@@ -394,7 +440,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glUniform2ui64vNV Uniform2ui64vNV} */
@@ -403,7 +451,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glUniform3ui64vNV Uniform3ui64vNV} */
@@ -412,7 +462,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glUniform4ui64vNV Uniform4ui64vNV} */
@@ -421,7 +473,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetUniformi64vNV GetUniformi64vNV} */
@@ -431,7 +485,9 @@ public class NVGPUShader5 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glGetUniformui64vNV GetUniformui64vNV} */
@@ -445,7 +501,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2i64vNV ProgramUniform2i64vNV} */
@@ -454,7 +512,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3i64vNV ProgramUniform3i64vNV} */
@@ -463,7 +523,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4i64vNV ProgramUniform4i64vNV} */
@@ -472,7 +534,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1ui64vNV ProgramUniform1ui64vNV} */
@@ -481,7 +545,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2ui64vNV ProgramUniform2ui64vNV} */
@@ -490,7 +556,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3ui64vNV ProgramUniform3ui64vNV} */
@@ -499,7 +567,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4ui64vNV ProgramUniform4ui64vNV} */
@@ -508,7 +578,9 @@ public class NVGPUShader5 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
 }
\ No newline at end of file
@@ -34,6 +34,8 @@ public class NVHalfFloat {
      */
     public static final int GL_HALF_FLOAT_NV = 0x140B;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVHalfFloat.class, "glVertex2hvNV,glVertex3hvNV,glVertex4hvNV,glNormal3hvNV,glColor3hvNV,glColor4hvNV,glTexCoord1hvNV,glTexCoord2hvNV,glTexCoord3hvNV,glTexCoord4hvNV,glMultiTexCoord1hvNV,glMultiTexCoord2hvNV,glMultiTexCoord3hvNV,glMultiTexCoord4hvNV,glFogCoordhvNV,glSecondaryColor3hvNV,glVertexWeighthvNV,glVertexAttrib1hvNV,glVertexAttrib2hvNV,glVertexAttrib3hvNV,glVertexAttrib4hvNV,glVertexAttribs1hvNV,glVertexAttribs2hvNV,glVertexAttribs3hvNV,glVertexAttribs4hvNV");
+
     static { GL.initialize(); }
 
     protected NVHalfFloat() {
@@ -71,7 +73,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertex2hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertex3hNV ] ---
@@ -86,7 +90,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertex3hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glVertex4hNV ] ---
@@ -101,7 +107,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertex4hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glNormal3hNV ] ---
@@ -116,7 +124,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglNormal3hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glColor3hNV ] ---
@@ -131,7 +141,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglColor3hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glColor4hNV ] ---
@@ -146,7 +158,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglColor4hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glTexCoord1hNV ] ---
@@ -161,7 +175,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord1hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glTexCoord2hNV ] ---
@@ -176,7 +192,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord2hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glTexCoord3hNV ] ---
@@ -191,7 +209,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord3hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glTexCoord4hNV ] ---
@@ -206,7 +226,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglTexCoord4hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glMultiTexCoord1hNV ] ---
@@ -221,7 +243,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord1hvNV(target, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glMultiTexCoord2hNV ] ---
@@ -236,7 +260,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord2hvNV(target, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glMultiTexCoord3hNV ] ---
@@ -251,7 +277,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord3hvNV(target, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glMultiTexCoord4hNV ] ---
@@ -266,7 +294,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglMultiTexCoord4hvNV(target, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glFogCoordhNV ] ---
@@ -281,7 +311,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(fog, 1);
         }
+        long __start = FunctionProfiler.start();
         nglFogCoordhvNV(memAddress(fog));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glSecondaryColor3hNV ] ---
@@ -296,7 +328,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglSecondaryColor3hvNV(memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glVertexWeighthNV ] ---
@@ -311,7 +345,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(weight, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexWeighthvNV(memAddress(weight));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glVertexAttrib1hNV ] ---
@@ -326,7 +362,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1hvNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glVertexAttrib2hNV ] ---
@@ -341,7 +379,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2hvNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glVertexAttrib3hNV ] ---
@@ -356,7 +396,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3hvNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glVertexAttrib4hNV ] ---
@@ -371,7 +413,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4hvNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glVertexAttribs1hvNV ] ---
@@ -379,7 +423,9 @@ public class NVHalfFloat {
     public static native void nglVertexAttribs1hvNV(int index, int n, long v);
 
     public static void glVertexAttribs1hvNV(@NativeType("GLuint") int index, @NativeType("GLhalfNV const *") ShortBuffer v) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribs1hvNV(index, v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glVertexAttribs2hvNV ] ---
@@ -387,7 +433,9 @@ public class NVHalfFloat {
     public static native void nglVertexAttribs2hvNV(int index, int n, long v);
 
     public static void glVertexAttribs2hvNV(@NativeType("GLuint") int index, @NativeType("GLhalfNV const *") ShortBuffer v) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribs2hvNV(index, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glVertexAttribs3hvNV ] ---
@@ -395,7 +443,9 @@ public class NVHalfFloat {
     public static native void nglVertexAttribs3hvNV(int index, int n, long v);
 
     public static void glVertexAttribs3hvNV(@NativeType("GLuint") int index, @NativeType("GLhalfNV const *") ShortBuffer v) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribs3hvNV(index, v.remaining() / 3, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glVertexAttribs4hvNV ] ---
@@ -403,7 +453,9 @@ public class NVHalfFloat {
     public static native void nglVertexAttribs4hvNV(int index, int n, long v);
 
     public static void glVertexAttribs4hvNV(@NativeType("GLuint") int index, @NativeType("GLhalfNV const *") ShortBuffer v) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribs4hvNV(index, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** Array version of: {@link #glVertex2hvNV Vertex2hvNV} */
@@ -413,7 +465,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glVertex3hvNV Vertex3hvNV} */
@@ -423,7 +477,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glVertex4hvNV Vertex4hvNV} */
@@ -433,7 +489,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glNormal3hvNV Normal3hvNV} */
@@ -443,7 +501,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glColor3hvNV Color3hvNV} */
@@ -453,7 +513,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glColor4hvNV Color4hvNV} */
@@ -463,7 +525,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glTexCoord1hvNV TexCoord1hvNV} */
@@ -473,7 +537,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glTexCoord2hvNV TexCoord2hvNV} */
@@ -483,7 +549,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glTexCoord3hvNV TexCoord3hvNV} */
@@ -493,7 +561,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glTexCoord4hvNV TexCoord4hvNV} */
@@ -503,7 +573,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord1hvNV MultiTexCoord1hvNV} */
@@ -513,7 +585,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord2hvNV MultiTexCoord2hvNV} */
@@ -523,7 +597,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord3hvNV MultiTexCoord3hvNV} */
@@ -533,7 +609,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glMultiTexCoord4hvNV MultiTexCoord4hvNV} */
@@ -543,7 +621,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glFogCoordhvNV FogCoordhvNV} */
@@ -553,7 +633,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(fog, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(fog, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glSecondaryColor3hvNV SecondaryColor3hvNV} */
@@ -563,7 +645,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glVertexWeighthvNV VertexWeighthvNV} */
@@ -573,7 +657,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(weight, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(weight, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib1hvNV VertexAttrib1hvNV} */
@@ -583,7 +669,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib2hvNV VertexAttrib2hvNV} */
@@ -593,7 +681,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib3hvNV VertexAttrib3hvNV} */
@@ -603,7 +693,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glVertexAttrib4hvNV VertexAttrib4hvNV} */
@@ -613,7 +705,9 @@ public class NVHalfFloat {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #glVertexAttribs1hvNV VertexAttribs1hvNV} */
@@ -622,7 +716,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glVertexAttribs2hvNV VertexAttribs2hvNV} */
@@ -631,7 +727,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #glVertexAttribs3hvNV VertexAttribs3hvNV} */
@@ -640,7 +738,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v.length / 3, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glVertexAttribs4hvNV VertexAttribs4hvNV} */
@@ -649,7 +749,9 @@ public class NVHalfFloat {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
 }
\ No newline at end of file
@@ -349,6 +349,8 @@ public class NVPathRendering {
         GL_OBJECT_LINEAR_NV = 0x2401,
         GL_CONSTANT_NV      = 0x8576;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVPathRendering.class, "glPathCommandsNV,glPathCoordsNV,glPathSubCommandsNV,glPathSubCoordsNV,glPathStringNV,glPathGlyphsNV,glPathGlyphRangeNV,glPathGlyphIndexArrayNV,glPathMemoryGlyphIndexArrayNV,glWeightPathsNV,glTransformPathNV,glPathParameterivNV,glPathParameterfvNV,glPathDashArrayNV,glStencilFillPathInstancedNV,glStencilStrokePathInstancedNV,glPathColorGenNV,glPathTexGenNV,glCoverFillPathInstancedNV,glCoverStrokePathInstancedNV,glStencilThenCoverFillPathInstancedNV,glStencilThenCoverStrokePathInstancedNV,glPathGlyphIndexRangeNV,glProgramPathFragmentInputGenNV,glGetPathParameterivNV,glGetPathParameterfvNV,glGetPathCommandsNV,glGetPathCoordsNV,glGetPathDashArrayNV,glGetPathMetricsNV,glGetPathMetricRangeNV,glGetPathSpacingNV,glGetPathColorGenivNV,glGetPathColorGenfvNV,glGetPathTexGenivNV,glGetPathTexGenfvNV,glPointAlongPathNV,glMatrixLoad3x2fNV,glMatrixLoad3x3fNV,glMatrixLoadTranspose3x3fNV,glMatrixMult3x2fNV,glMatrixMult3x3fNV,glMatrixMultTranspose3x3fNV,glGetProgramResourcefvNV");
+
     static { GL.initialize(); }
 
     protected NVPathRendering() {
@@ -375,17 +377,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCommandsNV(@NativeType("GLuint") int path, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCommandsNV(path, commands.remaining(), memAddress(commands), coords.remaining() >> GLChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCommandsNV(@NativeType("GLuint") int path, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCommandsNV(path, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 1) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCommandsNV(@NativeType("GLuint") int path, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCommandsNV(path, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 2) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glPathCoordsNV ] ---
@@ -395,17 +403,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCoordsNV(@NativeType("GLuint") int path, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCoordsNV(path, coords.remaining() >> GLChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCoordsNV(@NativeType("GLuint") int path, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCoordsNV(path, (int)(((long)coords.remaining() << 1) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCoordsNV(@NativeType("GLuint") int path, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCoordsNV(path, (int)(((long)coords.remaining() << 2) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glPathSubCommandsNV ] ---
@@ -415,17 +429,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCommandsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int commandStart, @NativeType("GLsizei") int commandsToDelete, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCommandsNV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), coords.remaining() >> GLChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCommandsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int commandStart, @NativeType("GLsizei") int commandsToDelete, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCommandsNV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 1) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCommandsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int commandStart, @NativeType("GLsizei") int commandsToDelete, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCommandsNV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 2) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glPathSubCoordsNV ] ---
@@ -435,17 +455,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCoordsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int coordStart, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCoordsNV(path, coordStart, coords.remaining() >> GLChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCoordsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int coordStart, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCoordsNV(path, coordStart, (int)(((long)coords.remaining() << 1) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GL11#GL_BYTE BYTE}</td><td>{@link GL11#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GL11#GL_SHORT SHORT}</td><td>{@link GL11#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GL11#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCoordsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int coordStart, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCoordsNV(path, coordStart, (int)(((long)coords.remaining() << 2) >> GLChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glPathStringNV ] ---
@@ -455,7 +481,9 @@ public class NVPathRendering {
 
     /** @param format one of:<br><table><tr><td>{@link #GL_PATH_FORMAT_SVG_NV PATH_FORMAT_SVG_NV}</td><td>{@link #GL_PATH_FORMAT_PS_NV PATH_FORMAT_PS_NV}</td></tr></table> */
     public static void glPathStringNV(@NativeType("GLuint") int path, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer pathString) {
+        long __start = FunctionProfiler.start();
         nglPathStringNV(path, format, pathString.remaining(), memAddress(pathString));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glPathGlyphsNV ] ---
@@ -473,7 +501,9 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
+        long __start = FunctionProfiler.start();
         nglPathGlyphsNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, charcodes.remaining() / charcodeTypeToBytes(type), type, memAddress(charcodes), handleMissingGlyphs, pathParameterTemplate, emScale);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glPathGlyphRangeNV ] ---
@@ -490,7 +520,9 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
+        long __start = FunctionProfiler.start();
         nglPathGlyphRangeNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, firstGlyph, numGlyphs, handleMissingGlyphs, pathParameterTemplate, emScale);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glPathGlyphIndexArrayNV ] ---
@@ -507,7 +539,8 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
-        return nglPathGlyphIndexArrayNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nglPathGlyphIndexArrayNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale));
     }
 
     // --- [ glPathMemoryGlyphIndexArrayNV ] ---
@@ -518,7 +551,8 @@ public class NVPathRendering {
     /** @param fontTarget one of:<br><table><tr><td>{@link #GL_STANDARD_FONT_NAME_NV STANDARD_FONT_NAME_NV}</td><td>{@link #GL_SYSTEM_FONT_NAME_NV SYSTEM_FONT_NAME_NV}</td><td>{@link #GL_FILE_NAME_NV FILE_NAME_NV}</td></tr></table> */
     @NativeType("GLenum")
     public static int glPathMemoryGlyphIndexArrayNV(@NativeType("GLuint") int firstPathName, @NativeType("GLenum") int fontTarget, @NativeType("void const *") ByteBuffer fontData, @NativeType("GLsizei") int faceIndex, @NativeType("GLuint") int firstGlyphIndex, @NativeType("GLsizei") int numGlyphs, @NativeType("GLuint") int pathParameterTemplate, @NativeType("GLfloat") float emScale) {
-        return nglPathMemoryGlyphIndexArrayNV(firstPathName, fontTarget, fontData.remaining(), memAddress(fontData), faceIndex, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nglPathMemoryGlyphIndexArrayNV(firstPathName, fontTarget, fontData.remaining(), memAddress(fontData), faceIndex, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale));
     }
 
     // --- [ glCopyPathNV ] ---
@@ -533,7 +567,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(weights, paths.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglWeightPathsNV(resultPath, paths.remaining(), memAddress(paths), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glInterpolatePathsNV ] ---
@@ -550,7 +586,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglTransformPathNV(resultPath, srcPath, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glPathParameterivNV ] ---
@@ -563,7 +601,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglPathParameterivNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glPathParameteriNV ] ---
@@ -581,7 +621,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglPathParameterfvNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glPathParameterfNV ] ---
@@ -594,7 +636,9 @@ public class NVPathRendering {
     public static native void nglPathDashArrayNV(int path, int dashCount, long dashArray);
 
     public static void glPathDashArrayNV(@NativeType("GLuint") int path, @NativeType("GLfloat const *") FloatBuffer dashArray) {
+        long __start = FunctionProfiler.start();
         nglPathDashArrayNV(path, dashArray.remaining(), memAddress(dashArray));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glGenPathsNV ] ---
@@ -643,7 +687,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilFillPathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glStencilStrokePathInstancedNV ] ---
@@ -660,7 +706,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilStrokePathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glPathCoverDepthFuncNV ] ---
@@ -681,7 +729,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(coeffs, genModeToElements(genMode) * colorFormatToComponents(colorFormat));
         }
+        long __start = FunctionProfiler.start();
         nglPathColorGenNV(color, genMode, colorFormat, memAddress(coeffs));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glPathTexGenNV ] ---
@@ -692,7 +742,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(coeffs, genModeToElements(genMode) * components);
         }
+        long __start = FunctionProfiler.start();
         nglPathTexGenNV(texCoordSet, genMode, components, memAddress(coeffs));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glPathFogGenNV ] ---
@@ -724,7 +776,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglCoverFillPathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glCoverStrokePathInstancedNV ] ---
@@ -742,7 +796,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglCoverStrokePathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glStencilThenCoverFillPathNV ] ---
@@ -774,7 +830,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilThenCoverFillPathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glStencilThenCoverStrokePathInstancedNV ] ---
@@ -792,7 +850,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilThenCoverStrokePathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glPathGlyphIndexRangeNV ] ---
@@ -809,7 +869,8 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
-        return nglPathGlyphIndexRangeNV(fontTarget, memAddress(fontName), fontStyle, pathParameterTemplate, emScale, baseAndCount);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nglPathGlyphIndexRangeNV(fontTarget, memAddress(fontName), fontStyle, pathParameterTemplate, emScale, baseAndCount));
     }
 
     // --- [ glProgramPathFragmentInputGenNV ] ---
@@ -820,7 +881,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(coeffs, genModeToElements(genMode) * components);
         }
+        long __start = FunctionProfiler.start();
         nglProgramPathFragmentInputGenNV(program, location, genMode, components, memAddress(coeffs));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glGetPathParameterivNV ] ---
@@ -833,7 +896,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathParameterivNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** @param pname one of:<br><table><tr><td>{@link #GL_PATH_STROKE_WIDTH_NV PATH_STROKE_WIDTH_NV}</td><td>{@link #GL_PATH_INITIAL_END_CAP_NV PATH_INITIAL_END_CAP_NV}</td><td>{@link #GL_PATH_TERMINAL_END_CAP_NV PATH_TERMINAL_END_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_JOIN_STYLE_NV PATH_JOIN_STYLE_NV}</td><td>{@link #GL_PATH_MITER_LIMIT_NV PATH_MITER_LIMIT_NV}</td><td>{@link #GL_PATH_INITIAL_DASH_CAP_NV PATH_INITIAL_DASH_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_TERMINAL_DASH_CAP_NV PATH_TERMINAL_DASH_CAP_NV}</td><td>{@link #GL_PATH_DASH_OFFSET_NV PATH_DASH_OFFSET_NV}</td><td>{@link #GL_PATH_CLIENT_LENGTH_NV PATH_CLIENT_LENGTH_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_OFFSET_RESET_NV PATH_DASH_OFFSET_RESET_NV}</td><td>{@link #GL_PATH_FILL_MODE_NV PATH_FILL_MODE_NV}</td><td>{@link #GL_PATH_FILL_MASK_NV PATH_FILL_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_FILL_COVER_MODE_NV PATH_FILL_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_COVER_MODE_NV PATH_STROKE_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_MASK_NV PATH_STROKE_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUND_NV PATH_STROKE_BOUND_NV}</td><td>{@link #GL_PATH_COMMAND_COUNT_NV PATH_COMMAND_COUNT_NV}</td><td>{@link #GL_PATH_COORD_COUNT_NV PATH_COORD_COUNT_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_ARRAY_COUNT_NV PATH_DASH_ARRAY_COUNT_NV}</td><td>{@link #GL_PATH_COMPUTED_LENGTH_NV PATH_COMPUTED_LENGTH_NV}</td><td>{@link #GL_PATH_FILL_BOUNDING_BOX_NV PATH_FILL_BOUNDING_BOX_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUNDING_BOX_NV PATH_STROKE_BOUNDING_BOX_NV}</td></tr></table> */
@@ -842,7 +907,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer value = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetPathParameterivNV(path, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -859,7 +926,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathParameterfvNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** @param pname one of:<br><table><tr><td>{@link #GL_PATH_STROKE_WIDTH_NV PATH_STROKE_WIDTH_NV}</td><td>{@link #GL_PATH_INITIAL_END_CAP_NV PATH_INITIAL_END_CAP_NV}</td><td>{@link #GL_PATH_TERMINAL_END_CAP_NV PATH_TERMINAL_END_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_JOIN_STYLE_NV PATH_JOIN_STYLE_NV}</td><td>{@link #GL_PATH_MITER_LIMIT_NV PATH_MITER_LIMIT_NV}</td><td>{@link #GL_PATH_INITIAL_DASH_CAP_NV PATH_INITIAL_DASH_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_TERMINAL_DASH_CAP_NV PATH_TERMINAL_DASH_CAP_NV}</td><td>{@link #GL_PATH_DASH_OFFSET_NV PATH_DASH_OFFSET_NV}</td><td>{@link #GL_PATH_CLIENT_LENGTH_NV PATH_CLIENT_LENGTH_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_OFFSET_RESET_NV PATH_DASH_OFFSET_RESET_NV}</td><td>{@link #GL_PATH_FILL_MODE_NV PATH_FILL_MODE_NV}</td><td>{@link #GL_PATH_FILL_MASK_NV PATH_FILL_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_FILL_COVER_MODE_NV PATH_FILL_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_COVER_MODE_NV PATH_STROKE_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_MASK_NV PATH_STROKE_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUND_NV PATH_STROKE_BOUND_NV}</td><td>{@link #GL_PATH_COMMAND_COUNT_NV PATH_COMMAND_COUNT_NV}</td><td>{@link #GL_PATH_COORD_COUNT_NV PATH_COORD_COUNT_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_ARRAY_COUNT_NV PATH_DASH_ARRAY_COUNT_NV}</td><td>{@link #GL_PATH_COMPUTED_LENGTH_NV PATH_COMPUTED_LENGTH_NV}</td><td>{@link #GL_PATH_FILL_BOUNDING_BOX_NV PATH_FILL_BOUNDING_BOX_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUNDING_BOX_NV PATH_STROKE_BOUNDING_BOX_NV}</td></tr></table> */
@@ -868,7 +937,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer value = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetPathParameterfvNV(path, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -885,7 +956,9 @@ public class NVPathRendering {
                 check(commands, glGetPathParameteriNV(path, GL_PATH_COMMAND_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetPathCommandsNV(path, memAddress(commands));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glGetPathCoordsNV ] ---
@@ -898,7 +971,9 @@ public class NVPathRendering {
                 check(coords, glGetPathParameteriNV(path, GL_PATH_COORD_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetPathCoordsNV(path, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glGetPathDashArrayNV ] ---
@@ -911,7 +986,9 @@ public class NVPathRendering {
                 check(dashArray, glGetPathParameteriNV(path, GL_PATH_DASH_ARRAY_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetPathDashArrayNV(path, memAddress(dashArray));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glGetPathMetricsNV ] ---
@@ -928,7 +1005,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         nglGetPathMetricsNV(metricQueryMask, numPaths, pathNameType, memAddress(paths), pathBase, stride, memAddress(metrics));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glGetPathMetricRangeNV ] ---
@@ -941,7 +1020,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         nglGetPathMetricRangeNV(metricQueryMask, firstPathName, numPaths, stride, memAddress(metrics));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glGetPathSpacingNV ] ---
@@ -959,7 +1040,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(returnedSpacing, (numPaths - 1) * (transformType == GL_TRANSLATE_X_NV ? 1 : 2));
         }
+        long __start = FunctionProfiler.start();
         nglGetPathSpacingNV(pathListMode, numPaths, pathNameType, memAddress(paths), pathBase, advanceScale, kerningScale, transformType, memAddress(returnedSpacing));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glGetPathColorGenivNV ] ---
@@ -975,7 +1058,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathColorGenivNV(color, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -987,7 +1072,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer value = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetPathColorGenivNV(color, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 32, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1007,7 +1094,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathColorGenfvNV(color, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -1019,7 +1108,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer value = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetPathColorGenfvNV(color, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 33, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1036,7 +1127,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathTexGenivNV(texCoordSet, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** @param pname {@link #GL_PATH_GEN_MODE_NV PATH_GEN_MODE_NV} {@link #GL_PATH_GEN_COEFF_NV PATH_GEN_COEFF_NV} {@link #GL_PATH_GEN_COMPONENTS_NV PATH_GEN_COMPONENTS_NV} */
@@ -1045,7 +1138,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer value = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetPathTexGenivNV(texCoordSet, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 34, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1062,7 +1157,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathTexGenfvNV(texCoordSet, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** @param pname {@link #GL_PATH_GEN_MODE_NV PATH_GEN_MODE_NV} {@link #GL_PATH_GEN_COEFF_NV PATH_GEN_COEFF_NV} {@link #GL_PATH_GEN_COMPONENTS_NV PATH_GEN_COMPONENTS_NV} */
@@ -1071,7 +1168,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer value = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetPathTexGenfvNV(texCoordSet, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1105,7 +1204,8 @@ public class NVPathRendering {
             checkSafe(tangentX, 1);
             checkSafe(tangentY, 1);
         }
-        return nglPointAlongPathNV(path, startSegment, numSegments, distance, memAddressSafe(x), memAddressSafe(y), memAddressSafe(tangentX), memAddressSafe(tangentY));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nglPointAlongPathNV(path, startSegment, numSegments, distance, memAddressSafe(x), memAddressSafe(y), memAddressSafe(tangentX), memAddressSafe(tangentY)));
     }
 
     // --- [ glMatrixLoad3x2fNV ] ---
@@ -1118,7 +1218,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoad3x2fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ glMatrixLoad3x3fNV ] ---
@@ -1131,7 +1233,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoad3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ glMatrixLoadTranspose3x3fNV ] ---
@@ -1144,7 +1248,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoadTranspose3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glMatrixMult3x2fNV ] ---
@@ -1157,7 +1263,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMult3x2fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ glMatrixMult3x3fNV ] ---
@@ -1170,7 +1278,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMult3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ glMatrixMultTranspose3x3fNV ] ---
@@ -1183,7 +1293,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMultTranspose3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ glGetProgramResourcefvNV ] ---
@@ -1194,7 +1306,9 @@ public class NVPathRendering {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramResourcefvNV(program, programInterface, index, props.remaining(), memAddress(props), params.remaining(), memAddressSafe(length), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** Array version of: {@link #glPathCommandsNV PathCommandsNV} */
@@ -1203,7 +1317,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPathCommandsNV PathCommandsNV} */
@@ -1212,7 +1328,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPathCoordsNV PathCoordsNV} */
@@ -1221,7 +1339,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glPathCoordsNV PathCoordsNV} */
@@ -1230,7 +1350,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glPathSubCommandsNV PathSubCommandsNV} */
@@ -1239,7 +1361,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glPathSubCommandsNV PathSubCommandsNV} */
@@ -1248,7 +1372,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glPathSubCoordsNV PathSubCoordsNV} */
@@ -1257,7 +1383,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coordStart, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glPathSubCoordsNV PathSubCoordsNV} */
@@ -1266,7 +1394,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coordStart, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glWeightPathsNV WeightPathsNV} */
@@ -1276,7 +1406,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(weights, paths.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(resultPath, paths.length, paths, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glTransformPathNV TransformPathNV} */
@@ -1286,7 +1418,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPV(resultPath, srcPath, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glPathParameterivNV PathParameterivNV} */
@@ -1296,7 +1430,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glPathParameterfvNV PathParameterfvNV} */
@@ -1306,7 +1442,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glPathDashArrayNV PathDashArrayNV} */
@@ -1315,7 +1453,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, dashArray.length, dashArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glStencilFillPathInstancedNV StencilFillPathInstancedNV} */
@@ -1326,7 +1466,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glStencilStrokePathInstancedNV StencilStrokePathInstancedNV} */
@@ -1337,7 +1479,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glPathColorGenNV PathColorGenNV} */
@@ -1347,7 +1491,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(coeffs, genModeToElements(genMode) * colorFormatToComponents(colorFormat));
         }
+        long __start = FunctionProfiler.start();
         callPV(color, genMode, colorFormat, coeffs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glPathTexGenNV PathTexGenNV} */
@@ -1357,7 +1503,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(coeffs, genModeToElements(genMode) * components);
         }
+        long __start = FunctionProfiler.start();
         callPV(texCoordSet, genMode, components, coeffs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glCoverFillPathInstancedNV CoverFillPathInstancedNV} */
@@ -1368,7 +1516,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glCoverStrokePathInstancedNV CoverStrokePathInstancedNV} */
@@ -1379,7 +1529,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glStencilThenCoverFillPathInstancedNV StencilThenCoverFillPathInstancedNV} */
@@ -1390,7 +1542,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #glStencilThenCoverStrokePathInstancedNV StencilThenCoverStrokePathInstancedNV} */
@@ -1401,7 +1555,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glProgramPathFragmentInputGenNV ProgramPathFragmentInputGenNV} */
@@ -1411,7 +1567,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(coeffs, genModeToElements(genMode) * components);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, genMode, components, coeffs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glGetPathParameterivNV GetPathParameterivNV} */
@@ -1421,7 +1579,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** Array version of: {@link #glGetPathParameterfvNV GetPathParameterfvNV} */
@@ -1431,7 +1591,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #glGetPathCoordsNV GetPathCoordsNV} */
@@ -1443,7 +1605,9 @@ public class NVPathRendering {
                 check(coords, glGetPathParameteriNV(path, GL_PATH_COORD_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** Array version of: {@link #glGetPathDashArrayNV GetPathDashArrayNV} */
@@ -1455,7 +1619,9 @@ public class NVPathRendering {
                 check(dashArray, glGetPathParameteriNV(path, GL_PATH_DASH_ARRAY_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         callPV(path, dashArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /** Array version of: {@link #glGetPathMetricsNV GetPathMetricsNV} */
@@ -1466,7 +1632,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         callPPV(metricQueryMask, numPaths, pathNameType, memAddress(paths), pathBase, stride, metrics, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** Array version of: {@link #glGetPathMetricRangeNV GetPathMetricRangeNV} */
@@ -1476,7 +1644,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         callPV(metricQueryMask, firstPathName, numPaths, stride, metrics, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /** Array version of: {@link #glGetPathSpacingNV GetPathSpacingNV} */
@@ -1487,7 +1657,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(returnedSpacing, (numPaths - 1) * (transformType == GL_TRANSLATE_X_NV ? 1 : 2));
         }
+        long __start = FunctionProfiler.start();
         callPPV(pathListMode, numPaths, pathNameType, memAddress(paths), pathBase, advanceScale, kerningScale, transformType, returnedSpacing, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glGetPathColorGenivNV GetPathColorGenivNV} */
@@ -1497,7 +1669,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(color, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #glGetPathColorGenfvNV GetPathColorGenfvNV} */
@@ -1507,7 +1681,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(color, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glGetPathTexGenivNV GetPathTexGenivNV} */
@@ -1517,7 +1693,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texCoordSet, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #glGetPathTexGenfvNV GetPathTexGenfvNV} */
@@ -1527,7 +1705,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texCoordSet, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** Array version of: {@link #glPointAlongPathNV PointAlongPathNV} */
@@ -1541,7 +1721,8 @@ public class NVPathRendering {
             checkSafe(tangentX, 1);
             checkSafe(tangentY, 1);
         }
-        return callPPPPZ(path, startSegment, numSegments, distance, x, y, tangentX, tangentY, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPPPPZ(path, startSegment, numSegments, distance, x, y, tangentX, tangentY, __functionAddress));
     }
 
     /** Array version of: {@link #glMatrixLoad3x2fNV MatrixLoad3x2fNV} */
@@ -1551,7 +1732,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #glMatrixLoad3x3fNV MatrixLoad3x3fNV} */
@@ -1561,7 +1744,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** Array version of: {@link #glMatrixLoadTranspose3x3fNV MatrixLoadTranspose3x3fNV} */
@@ -1571,7 +1756,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #glMatrixMult3x2fNV MatrixMult3x2fNV} */
@@ -1581,7 +1768,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /** Array version of: {@link #glMatrixMult3x3fNV MatrixMult3x3fNV} */
@@ -1591,7 +1780,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /** Array version of: {@link #glMatrixMultTranspose3x3fNV MatrixMultTranspose3x3fNV} */
@@ -1601,7 +1792,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** Array version of: {@link #glGetProgramResourcefvNV GetProgramResourcefvNV} */
@@ -1611,7 +1804,9 @@ public class NVPathRendering {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, programInterface, index, props.length, props, params.length, length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     private static int charcodeTypeToBytes(int type) {
@@ -67,6 +67,8 @@ public class NVPixelDataRange {
         GL_WRITE_PIXEL_DATA_RANGE_POINTER_NV = 0x887C,
         GL_READ_PIXEL_DATA_RANGE_POINTER_NV  = 0x887D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVPixelDataRange.class, "glPixelDataRangeNV");
+
     static { GL.initialize(); }
 
     protected NVPixelDataRange() {
@@ -84,7 +86,9 @@ public class NVPixelDataRange {
     public static native void nglPixelDataRangeNV(int target, int length, long pointer);
 
     public static void glPixelDataRangeNV(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglPixelDataRangeNV(target, pointer.remaining(), memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glFlushPixelDataRangeNV ] ---
@@ -51,6 +51,8 @@ public class NVPointSprite {
      */
     public static final int GL_POINT_SPRITE_R_MODE_NV = 0x8863;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVPointSprite.class, "glPointParameterivNV");
+
     static { GL.initialize(); }
 
     protected NVPointSprite() {
@@ -75,7 +77,9 @@ public class NVPointSprite {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglPointParameterivNV(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPointParameterivNV PointParameterivNV} */
@@ -85,7 +89,9 @@ public class NVPointSprite {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class NVQueryResource {
         GL_QUERY_RESOURCE_RENDERBUFFER_NV   = 0x9546,
         GL_QUERY_RESOURCE_BUFFEROBJECT_NV   = 0x9547;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVQueryResource.class, "glQueryResourceNV");
+
     static { GL.initialize(); }
 
     protected NVQueryResource() {
@@ -63,7 +65,8 @@ public class NVQueryResource {
     /** @param queryType must be:<br><table><tr><td>{@link #GL_QUERY_RESOURCE_TYPE_VIDMEM_ALLOC_NV QUERY_RESOURCE_TYPE_VIDMEM_ALLOC_NV}</td></tr></table> */
     @NativeType("GLint")
     public static int glQueryResourceNV(@NativeType("GLenum") int queryType, @NativeType("GLint") int pname, @NativeType("GLint *") IntBuffer buffer) {
-        return nglQueryResourceNV(queryType, pname, buffer.remaining(), memAddress(buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglQueryResourceNV(queryType, pname, buffer.remaining(), memAddress(buffer)));
     }
 
     /** Array version of: {@link #glQueryResourceNV QueryResourceNV} */
@@ -73,7 +76,8 @@ public class NVQueryResource {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(queryType, pname, buffer.length, buffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(queryType, pname, buffer.length, buffer, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVQueryResourceTag {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVQueryResourceTag.class, "glGenQueryResourceTagNV,glDeleteQueryResourceTagNV,glQueryResourceTagNV");
+
     static { GL.initialize(); }
 
     protected NVQueryResourceTag() {
@@ -42,7 +44,9 @@ public class NVQueryResourceTag {
     public static native void nglGenQueryResourceTagNV(int n, long tagIds);
 
     public static void glGenQueryResourceTagNV(@NativeType("GLuint *") IntBuffer tagIds) {
+        long __start = FunctionProfiler.start();
         nglGenQueryResourceTagNV(tagIds.remaining(), memAddress(tagIds));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -50,7 +54,9 @@ public class NVQueryResourceTag {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer tagIds = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenQueryResourceTagNV(1, memAddress(tagIds));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return tagIds.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -62,14 +68,18 @@ public class NVQueryResourceTag {
     public static native void nglDeleteQueryResourceTagNV(int n, long tagIds);
 
     public static void glDeleteQueryResourceTagNV(@NativeType("GLuint const *") IntBuffer tagIds) {
+        long __start = FunctionProfiler.start();
         nglDeleteQueryResourceTagNV(tagIds.remaining(), memAddress(tagIds));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDeleteQueryResourceTagNV(@NativeType("GLuint const *") int tagId) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer tagIds = stack.ints(tagId);
+            long __start = FunctionProfiler.start();
             nglDeleteQueryResourceTagNV(1, memAddress(tagIds));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -83,7 +93,9 @@ public class NVQueryResourceTag {
         if (CHECKS) {
             checkNT1(tagString);
         }
+        long __start = FunctionProfiler.start();
         nglQueryResourceTagNV(tagId, memAddress(tagString));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glQueryResourceTagNV(@NativeType("GLuint") int tagId, @NativeType("GLchar const *") CharSequence tagString) {
@@ -91,7 +103,9 @@ public class NVQueryResourceTag {
         try {
             stack.nASCII(tagString, true);
             long tagStringEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglQueryResourceTagNV(tagId, tagStringEncoded);
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -103,7 +117,9 @@ public class NVQueryResourceTag {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tagIds.length, tagIds, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glDeleteQueryResourceTagNV DeleteQueryResourceTagNV} */
@@ -112,7 +128,9 @@ public class NVQueryResourceTag {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(tagIds.length, tagIds, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -53,6 +53,8 @@ public class NVSampleLocations {
         GL_FRAMEBUFFER_PROGRAMMABLE_SAMPLE_LOCATIONS_NV = 0x9342,
         GL_FRAMEBUFFER_SAMPLE_LOCATION_PIXEL_GRID_NV    = 0x9343;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVSampleLocations.class, "glFramebufferSampleLocationsfvNV,glNamedFramebufferSampleLocationsfvNV");
+
     static { GL.initialize(); }
 
     protected NVSampleLocations() {
@@ -82,7 +84,9 @@ public class NVSampleLocations {
      * @param v      a pair of floating point values in the range [0,1] for each sample location
      */
     public static void glFramebufferSampleLocationsfvNV(@NativeType("GLenum") int target, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglFramebufferSampleLocationsfvNV(target, start, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glNamedFramebufferSampleLocationsfvNV ] ---
@@ -102,7 +106,9 @@ public class NVSampleLocations {
      * @param v           a pair of floating point values in the range [0,1] for each sample location
      */
     public static void glNamedFramebufferSampleLocationsfvNV(@NativeType("GLuint") int framebuffer, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglNamedFramebufferSampleLocationsfvNV(framebuffer, start, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glResolveDepthValuesNV ] ---
@@ -120,7 +126,9 @@ public class NVSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, start, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedFramebufferSampleLocationsfvNV NamedFramebufferSampleLocationsfvNV} */
@@ -129,7 +137,9 @@ public class NVSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, start, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
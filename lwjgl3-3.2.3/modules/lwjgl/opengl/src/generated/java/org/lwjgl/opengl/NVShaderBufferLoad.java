@@ -98,6 +98,8 @@ public class NVShaderBufferLoad {
     /** Accepted by the {@code value} parameter of GetIntegerui64vNV. */
     public static final int GL_MAX_SHADER_BUFFER_ADDRESS_NV = 0x8F35;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVShaderBufferLoad.class, "glGetBufferParameterui64vNV,glGetNamedBufferParameterui64vNV,glGetIntegerui64vNV,glUniformui64vNV,glGetUniformui64vNV,glProgramUniformui64vNV");
+
     static { GL.initialize(); }
 
     protected NVShaderBufferLoad() {
@@ -147,7 +149,9 @@ public class NVShaderBufferLoad {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferParameterui64vNV(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -155,7 +159,9 @@ public class NVShaderBufferLoad {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferParameterui64vNV(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -170,7 +176,9 @@ public class NVShaderBufferLoad {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNamedBufferParameterui64vNV(buffer, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -178,7 +186,9 @@ public class NVShaderBufferLoad {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetNamedBufferParameterui64vNV(buffer, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -193,7 +203,9 @@ public class NVShaderBufferLoad {
         if (CHECKS) {
             check(result, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegerui64vNV(value, memAddress(result));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -201,7 +213,9 @@ public class NVShaderBufferLoad {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer result = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegerui64vNV(value, memAddress(result));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return result.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -217,7 +231,9 @@ public class NVShaderBufferLoad {
     public static native void nglUniformui64vNV(int location, int count, long value);
 
     public static void glUniformui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformui64vNV(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetUniformui64vNV ] ---
@@ -228,7 +244,9 @@ public class NVShaderBufferLoad {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformui64vNV(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -236,7 +254,9 @@ public class NVShaderBufferLoad {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformui64vNV(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -252,7 +272,9 @@ public class NVShaderBufferLoad {
     public static native void nglProgramUniformui64vNV(int program, int location, int count, long value);
 
     public static void glProgramUniformui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64EXT const *") LongBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformui64vNV(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetBufferParameterui64vNV GetBufferParameterui64vNV} */
@@ -262,7 +284,9 @@ public class NVShaderBufferLoad {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetNamedBufferParameterui64vNV GetNamedBufferParameterui64vNV} */
@@ -272,7 +296,9 @@ public class NVShaderBufferLoad {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetIntegerui64vNV GetIntegerui64vNV} */
@@ -282,7 +308,9 @@ public class NVShaderBufferLoad {
             check(__functionAddress);
             check(result, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(value, result, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glUniformui64vNV Uniformui64vNV} */
@@ -291,7 +319,9 @@ public class NVShaderBufferLoad {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetUniformui64vNV GetUniformui64vNV} */
@@ -301,7 +331,9 @@ public class NVShaderBufferLoad {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glProgramUniformui64vNV ProgramUniformui64vNV} */
@@ -310,7 +342,9 @@ public class NVShaderBufferLoad {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
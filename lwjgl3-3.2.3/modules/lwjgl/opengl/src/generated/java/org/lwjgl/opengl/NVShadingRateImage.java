@@ -83,6 +83,8 @@ public class NVShadingRateImage {
         GL_SHADING_RATE_SAMPLE_ORDER_PIXEL_MAJOR_NV  = 0x95AF,
         GL_SHADING_RATE_SAMPLE_ORDER_SAMPLE_MAJOR_NV = 0x95B0;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVShadingRateImage.class, "glShadingRateImagePaletteNV,glGetShadingRateImagePaletteNV,glShadingRateSampleOrderCustomNV,glGetShadingRateSampleLocationivNV");
+
     static { GL.initialize(); }
 
     protected NVShadingRateImage() {
@@ -105,7 +107,9 @@ public class NVShadingRateImage {
     public static native void nglShadingRateImagePaletteNV(int viewport, int first, int count, long rates);
 
     public static void glShadingRateImagePaletteNV(@NativeType("GLuint") int viewport, @NativeType("GLuint") int first, @NativeType("GLenum const *") IntBuffer rates) {
+        long __start = FunctionProfiler.start();
         nglShadingRateImagePaletteNV(viewport, first, rates.remaining(), memAddress(rates));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetShadingRateImagePaletteNV ] ---
@@ -116,7 +120,9 @@ public class NVShadingRateImage {
         if (CHECKS) {
             check(rate, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShadingRateImagePaletteNV(viewport, entry, memAddress(rate));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glShadingRateImageBarrierNV ] ---
@@ -132,7 +138,9 @@ public class NVShadingRateImage {
     public static native void nglShadingRateSampleOrderCustomNV(int rate, int samples, long locations);
 
     public static void glShadingRateSampleOrderCustomNV(@NativeType("GLenum") int rate, @NativeType("GLuint") int samples, @NativeType("GLint const *") IntBuffer locations) {
+        long __start = FunctionProfiler.start();
         nglShadingRateSampleOrderCustomNV(rate, samples, memAddress(locations));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetShadingRateSampleLocationivNV ] ---
@@ -143,7 +151,9 @@ public class NVShadingRateImage {
         if (CHECKS) {
             check(location, 3);
         }
+        long __start = FunctionProfiler.start();
         nglGetShadingRateSampleLocationivNV(rate, samples, index, memAddress(location));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glShadingRateImagePaletteNV ShadingRateImagePaletteNV} */
@@ -152,7 +162,9 @@ public class NVShadingRateImage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(viewport, first, rates.length, rates, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetShadingRateImagePaletteNV GetShadingRateImagePaletteNV} */
@@ -162,7 +174,9 @@ public class NVShadingRateImage {
             check(__functionAddress);
             check(rate, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(viewport, entry, rate, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glShadingRateSampleOrderCustomNV ShadingRateSampleOrderCustomNV} */
@@ -171,7 +185,9 @@ public class NVShadingRateImage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(rate, samples, locations, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetShadingRateSampleLocationivNV GetShadingRateSampleLocationivNV} */
@@ -181,7 +197,9 @@ public class NVShadingRateImage {
             check(__functionAddress);
             check(location, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(rate, samples, index, location, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -103,6 +103,8 @@ public class NVTransformFeedback {
         GL_SECONDARY_COLOR_NV      = 0x852D,
         GL_LAYER_NV                = 0x8DAA;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVTransformFeedback.class, "glTransformFeedbackAttribsNV,glTransformFeedbackVaryingsNV,glActiveVaryingNV,glGetVaryingLocationNV,glGetActiveVaryingNV,glGetTransformFeedbackVaryingNV,glTransformFeedbackStreamAttribsNV");
+
     static { GL.initialize(); }
 
     protected NVTransformFeedback() {
@@ -130,7 +132,9 @@ public class NVTransformFeedback {
     public static native void nglTransformFeedbackAttribsNV(int count, long attribs, int bufferMode);
 
     public static void glTransformFeedbackAttribsNV(@NativeType("GLint const *") IntBuffer attribs, @NativeType("GLenum") int bufferMode) {
+        long __start = FunctionProfiler.start();
         nglTransformFeedbackAttribsNV(attribs.remaining(), memAddress(attribs), bufferMode);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glBindBufferRangeNV ] ---
@@ -150,7 +154,9 @@ public class NVTransformFeedback {
     public static native void nglTransformFeedbackVaryingsNV(int program, int count, long locations, int bufferMode);
 
     public static void glTransformFeedbackVaryingsNV(@NativeType("GLuint") int program, @NativeType("GLint const *") IntBuffer locations, @NativeType("GLenum") int bufferMode) {
+        long __start = FunctionProfiler.start();
         nglTransformFeedbackVaryingsNV(program, locations.remaining(), memAddress(locations), bufferMode);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glActiveVaryingNV ] ---
@@ -161,7 +167,9 @@ public class NVTransformFeedback {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglActiveVaryingNV(program, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glActiveVaryingNV(@NativeType("GLuint") int program, @NativeType("GLchar const *") CharSequence name) {
@@ -169,7 +177,9 @@ public class NVTransformFeedback {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglActiveVaryingNV(program, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -184,7 +194,8 @@ public class NVTransformFeedback {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetVaryingLocationNV(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetVaryingLocationNV(program, memAddress(name)));
     }
 
     @NativeType("GLint")
@@ -193,7 +204,8 @@ public class NVTransformFeedback {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetVaryingLocationNV(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetVaryingLocationNV(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -209,7 +221,9 @@ public class NVTransformFeedback {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveVaryingNV(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetTransformFeedbackVaryingNV ] ---
@@ -220,7 +234,9 @@ public class NVTransformFeedback {
         if (CHECKS) {
             check(location, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbackVaryingNV(program, index, memAddress(location));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -228,7 +244,9 @@ public class NVTransformFeedback {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer location = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbackVaryingNV(program, index, memAddress(location));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return location.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -240,7 +258,9 @@ public class NVTransformFeedback {
     public static native void nglTransformFeedbackStreamAttribsNV(int count, long attribs, int nbuffers, long bufstreams, int bufferMode);
 
     public static void glTransformFeedbackStreamAttribsNV(@NativeType("GLint const *") IntBuffer attribs, @NativeType("GLint const *") IntBuffer bufstreams, @NativeType("GLenum") int bufferMode) {
+        long __start = FunctionProfiler.start();
         nglTransformFeedbackStreamAttribsNV(attribs.remaining(), memAddress(attribs), bufstreams.remaining(), memAddress(bufstreams), bufferMode);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glTransformFeedbackAttribsNV TransformFeedbackAttribsNV} */
@@ -249,7 +269,9 @@ public class NVTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(attribs.length, attribs, bufferMode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glTransformFeedbackVaryingsNV TransformFeedbackVaryingsNV} */
@@ -258,7 +280,9 @@ public class NVTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, locations.length, locations, bufferMode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetActiveVaryingNV GetActiveVaryingNV} */
@@ -270,7 +294,9 @@ public class NVTransformFeedback {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetTransformFeedbackVaryingNV GetTransformFeedbackVaryingNV} */
@@ -280,7 +306,9 @@ public class NVTransformFeedback {
             check(__functionAddress);
             check(location, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, index, location, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glTransformFeedbackStreamAttribsNV TransformFeedbackStreamAttribsNV} */
@@ -289,7 +317,9 @@ public class NVTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(attribs.length, attribs, bufstreams.length, bufstreams, bufferMode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
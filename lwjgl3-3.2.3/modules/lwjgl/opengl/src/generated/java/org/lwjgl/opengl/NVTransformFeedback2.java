@@ -43,6 +43,8 @@ public class NVTransformFeedback2 {
         GL_TRANSFORM_FEEDBACK_BUFFER_ACTIVE_NV = 0x8E24,
         GL_TRANSFORM_FEEDBACK_BINDING_NV       = 0x8E25;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVTransformFeedback2.class, "glDeleteTransformFeedbacksNV,glGenTransformFeedbacksNV");
+
     static { GL.initialize(); }
 
     protected NVTransformFeedback2() {
@@ -65,14 +67,18 @@ public class NVTransformFeedback2 {
     public static native void nglDeleteTransformFeedbacksNV(int n, long ids);
 
     public static void glDeleteTransformFeedbacksNV(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteTransformFeedbacksNV(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDeleteTransformFeedbacksNV(@NativeType("GLuint const *") int id) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteTransformFeedbacksNV(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -86,7 +92,9 @@ public class NVTransformFeedback2 {
         if (CHECKS) {
             check(ids, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGenTransformFeedbacksNV(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -94,7 +102,9 @@ public class NVTransformFeedback2 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenTransformFeedbacksNV(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -124,7 +134,9 @@ public class NVTransformFeedback2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGenTransformFeedbacksNV GenTransformFeedbacksNV} */
@@ -134,7 +146,9 @@ public class NVTransformFeedback2 {
             check(__functionAddress);
             check(ids, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -32,6 +32,8 @@ public class NVVertexArrayRange {
     /** Accepted by the {@code pname} parameter of GetPointerv. */
     public static final int GL_VERTEX_ARRAY_RANGE_POINTER_NV = 0x8521;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVVertexArrayRange.class, "glVertexArrayRangeNV");
+
     static { GL.initialize(); }
 
     protected NVVertexArrayRange() {
@@ -49,7 +51,9 @@ public class NVVertexArrayRange {
     public static native void nglVertexArrayRangeNV(int length, long pointer);
 
     public static void glVertexArrayRangeNV(@NativeType("void *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexArrayRangeNV(pointer.remaining(), memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glFlushVertexArrayRangeNV ] ---
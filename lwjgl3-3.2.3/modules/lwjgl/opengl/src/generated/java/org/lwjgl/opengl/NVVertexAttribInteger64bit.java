@@ -32,6 +32,8 @@ public class NVVertexAttribInteger64bit {
         GL_INT64_NV          = 0x140E,
         GL_UNSIGNED_INT64_NV = 0x140F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVVertexAttribInteger64bit.class, "glVertexAttribL1i64vNV,glVertexAttribL2i64vNV,glVertexAttribL3i64vNV,glVertexAttribL4i64vNV,glVertexAttribL1ui64vNV,glVertexAttribL2ui64vNV,glVertexAttribL3ui64vNV,glVertexAttribL4ui64vNV,glGetVertexAttribLi64vNV,glGetVertexAttribLui64vNV");
+
     static { GL.initialize(); }
 
     protected NVVertexAttribInteger64bit() {
@@ -72,7 +74,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL1i64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertexAttribL2i64vNV ] ---
@@ -83,7 +87,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL2i64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glVertexAttribL3i64vNV ] ---
@@ -94,7 +100,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL3i64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glVertexAttribL4i64vNV ] ---
@@ -105,7 +113,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL4i64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glVertexAttribL1ui64NV ] ---
@@ -132,7 +142,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL1ui64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glVertexAttribL2ui64vNV ] ---
@@ -143,7 +155,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL2ui64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glVertexAttribL3ui64vNV ] ---
@@ -154,7 +168,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL3ui64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glVertexAttribL4ui64vNV ] ---
@@ -165,7 +181,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribL4ui64vNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glGetVertexAttribLi64vNV ] ---
@@ -176,7 +194,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribLi64vNV(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     @NativeType("void")
@@ -184,7 +204,9 @@ public class NVVertexAttribInteger64bit {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribLi64vNV(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -199,7 +221,9 @@ public class NVVertexAttribInteger64bit {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribLui64vNV(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     @NativeType("void")
@@ -207,7 +231,9 @@ public class NVVertexAttribInteger64bit {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribLui64vNV(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -225,7 +251,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL2i64vNV VertexAttribL2i64vNV} */
@@ -235,7 +263,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL3i64vNV VertexAttribL3i64vNV} */
@@ -245,7 +275,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL4i64vNV VertexAttribL4i64vNV} */
@@ -255,7 +287,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL1ui64vNV VertexAttribL1ui64vNV} */
@@ -265,7 +299,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL2ui64vNV VertexAttribL2ui64vNV} */
@@ -275,7 +311,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL3ui64vNV VertexAttribL3ui64vNV} */
@@ -285,7 +323,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glVertexAttribL4ui64vNV VertexAttribL4ui64vNV} */
@@ -295,7 +335,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribLi64vNV GetVertexAttribLi64vNV} */
@@ -305,7 +347,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glGetVertexAttribLui64vNV GetVertexAttribLui64vNV} */
@@ -315,7 +359,9 @@ public class NVVertexAttribInteger64bit {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
 }
\ No newline at end of file
@@ -62,6 +62,8 @@ public class NVVertexBufferUnifiedMemory {
         GL_FOG_COORD_ARRAY_LENGTH_NV       = 0x8F32,
         GL_ELEMENT_ARRAY_LENGTH_NV         = 0x8F33;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVVertexBufferUnifiedMemory.class, "glGetIntegerui64i_vNV");
+
     static { GL.initialize(); }
 
     protected NVVertexBufferUnifiedMemory() {
@@ -128,7 +130,9 @@ public class NVVertexBufferUnifiedMemory {
         if (CHECKS) {
             check(result, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegerui64i_vNV(value, index, memAddress(result));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -136,7 +140,9 @@ public class NVVertexBufferUnifiedMemory {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer result = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegerui64i_vNV(value, index, memAddress(result));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return result.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -150,7 +156,9 @@ public class NVVertexBufferUnifiedMemory {
             check(__functionAddress);
             check(result, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(value, index, result, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVXGpuMulticast2 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVXGpuMulticast2.class, "glAsyncCopyImageSubDataNVX,glAsyncCopyBufferSubDataNVX,glMulticastViewportArrayvNVX,glMulticastScissorArrayvNVX");
+
     static { GL.initialize(); }
 
     protected NVXGpuMulticast2() {
@@ -45,7 +47,8 @@ public class NVXGpuMulticast2 {
             check(waitValueArray, waitSemaphoreArray.remaining());
             check(signalValueArray, signalSemaphoreArray.remaining());
         }
-        return nglAsyncCopyImageSubDataNVX(waitSemaphoreArray.remaining(), memAddress(waitSemaphoreArray), memAddress(waitValueArray), srcGpu, dstGpuMask, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth, signalSemaphoreArray.remaining(), memAddress(signalSemaphoreArray), memAddress(signalValueArray));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglAsyncCopyImageSubDataNVX(waitSemaphoreArray.remaining(), memAddress(waitSemaphoreArray), memAddress(waitValueArray), srcGpu, dstGpuMask, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth, signalSemaphoreArray.remaining(), memAddress(signalSemaphoreArray), memAddress(signalValueArray)));
     }
 
     // --- [ glAsyncCopyBufferSubDataNVX ] ---
@@ -58,7 +61,8 @@ public class NVXGpuMulticast2 {
             check(fenceValueArray, waitSemaphoreArray.remaining());
             check(signalValueArray, signalSemaphoreArray.remaining());
         }
-        return nglAsyncCopyBufferSubDataNVX(waitSemaphoreArray.remaining(), memAddress(waitSemaphoreArray), memAddress(fenceValueArray), readGpu, writeGpuMask, readBuffer, writeBuffer, readOffset, writeOffset, size, signalSemaphoreArray.remaining(), memAddress(signalSemaphoreArray), memAddress(signalValueArray));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nglAsyncCopyBufferSubDataNVX(waitSemaphoreArray.remaining(), memAddress(waitSemaphoreArray), memAddress(fenceValueArray), readGpu, writeGpuMask, readBuffer, writeBuffer, readOffset, writeOffset, size, signalSemaphoreArray.remaining(), memAddress(signalSemaphoreArray), memAddress(signalValueArray)));
     }
 
     // --- [ glUploadGpuMaskNVX ] ---
@@ -70,7 +74,9 @@ public class NVXGpuMulticast2 {
     public static native void nglMulticastViewportArrayvNVX(int gpu, int first, int count, long v);
 
     public static void glMulticastViewportArrayvNVX(@NativeType("GLuint") int gpu, @NativeType("GLuint") int first, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglMulticastViewportArrayvNVX(gpu, first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMulticastScissorArrayvNVX ] ---
@@ -78,7 +84,9 @@ public class NVXGpuMulticast2 {
     public static native void nglMulticastScissorArrayvNVX(int gpu, int first, int count, long v);
 
     public static void glMulticastScissorArrayvNVX(@NativeType("GLuint") int gpu, @NativeType("GLuint") int first, @NativeType("GLint const *") IntBuffer v) {
+        long __start = FunctionProfiler.start();
         nglMulticastScissorArrayvNVX(gpu, first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glMulticastViewportPositionWScaleNVX ] ---
@@ -94,7 +102,8 @@ public class NVXGpuMulticast2 {
             check(waitValueArray, waitSemaphoreArray.length);
             check(signalValueArray, signalSemaphoreArray.length);
         }
-        return callPPPPI(waitSemaphoreArray.length, waitSemaphoreArray, waitValueArray, srcGpu, dstGpuMask, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth, signalSemaphoreArray.length, signalSemaphoreArray, signalValueArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(waitSemaphoreArray.length, waitSemaphoreArray, waitValueArray, srcGpu, dstGpuMask, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, srcWidth, srcHeight, srcDepth, signalSemaphoreArray.length, signalSemaphoreArray, signalValueArray, __functionAddress));
     }
 
     /** Array version of: {@link #glAsyncCopyBufferSubDataNVX AsyncCopyBufferSubDataNVX} */
@@ -106,7 +115,8 @@ public class NVXGpuMulticast2 {
             check(fenceValueArray, waitSemaphoreArray.length);
             check(signalValueArray, signalSemaphoreArray.length);
         }
-        return callPPPPPPPP(waitSemaphoreArray.length, waitSemaphoreArray, fenceValueArray, readGpu, writeGpuMask, readBuffer, writeBuffer, readOffset, writeOffset, size, signalSemaphoreArray.length, signalSemaphoreArray, signalValueArray, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPPPPP(waitSemaphoreArray.length, waitSemaphoreArray, fenceValueArray, readGpu, writeGpuMask, readBuffer, writeBuffer, readOffset, writeOffset, size, signalSemaphoreArray.length, signalSemaphoreArray, signalValueArray, __functionAddress));
     }
 
     /** Array version of: {@link #glMulticastViewportArrayvNVX MulticastViewportArrayvNVX} */
@@ -115,7 +125,9 @@ public class NVXGpuMulticast2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glMulticastScissorArrayvNVX MulticastScissorArrayvNVX} */
@@ -124,7 +136,9 @@ public class NVXGpuMulticast2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(gpu, first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
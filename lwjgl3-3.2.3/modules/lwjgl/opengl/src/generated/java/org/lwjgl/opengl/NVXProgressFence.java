@@ -31,6 +31,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVXProgressFence {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVXProgressFence.class, "glSignalSemaphoreui64NVX,glWaitSemaphoreui64NVX,glClientWaitSemaphoreui64NVX");
+
     static { GL.initialize(); }
 
     protected NVXProgressFence() {
@@ -56,7 +58,9 @@ public class NVXProgressFence {
         if (CHECKS) {
             check(fenceValueArray, semaphoreArray.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglSignalSemaphoreui64NVX(signalGpu, semaphoreArray.remaining(), memAddress(semaphoreArray), memAddress(fenceValueArray));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glWaitSemaphoreui64NVX ] ---
@@ -67,7 +71,9 @@ public class NVXProgressFence {
         if (CHECKS) {
             check(fenceValueArray, semaphoreArray.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglWaitSemaphoreui64NVX(waitGpu, semaphoreArray.remaining(), memAddress(semaphoreArray), memAddress(fenceValueArray));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glClientWaitSemaphoreui64NVX ] ---
@@ -78,7 +84,9 @@ public class NVXProgressFence {
         if (CHECKS) {
             check(fenceValueArray, semaphoreArray.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglClientWaitSemaphoreui64NVX(semaphoreArray.remaining(), memAddress(semaphoreArray), memAddress(fenceValueArray));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glSignalSemaphoreui64NVX SignalSemaphoreui64NVX} */
@@ -88,7 +96,9 @@ public class NVXProgressFence {
             check(__functionAddress);
             check(fenceValueArray, semaphoreArray.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(signalGpu, semaphoreArray.length, semaphoreArray, fenceValueArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glWaitSemaphoreui64NVX WaitSemaphoreui64NVX} */
@@ -98,7 +108,9 @@ public class NVXProgressFence {
             check(__functionAddress);
             check(fenceValueArray, semaphoreArray.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(waitGpu, semaphoreArray.length, semaphoreArray, fenceValueArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glClientWaitSemaphoreui64NVX ClientWaitSemaphoreui64NVX} */
@@ -108,7 +120,9 @@ public class NVXProgressFence {
             check(__functionAddress);
             check(fenceValueArray, semaphoreArray.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(semaphoreArray.length, semaphoreArray, fenceValueArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
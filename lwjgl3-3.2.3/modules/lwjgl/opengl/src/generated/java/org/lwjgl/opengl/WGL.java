@@ -59,6 +59,8 @@ public class WGL {
         WGL_SWAP_UNDERLAY14 = 0x20000000,
         WGL_SWAP_UNDERLAY15 = 0x40000000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGL.class, "wglCreateContext,wglCreateLayerContext,wglCopyContext,wglDeleteContext,wglGetCurrentContext,wglGetCurrentDC,wglGetProcAddress,wglMakeCurrent,wglShareLists");
+
     protected WGL() {
         throw new UnsupportedOperationException();
     }
@@ -96,7 +98,8 @@ public class WGL {
         if (CHECKS) {
             check(hdc);
         }
-        return callPP(hdc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(hdc, __functionAddress));
     }
 
     // --- [ wglCreateLayerContext ] ---
@@ -117,7 +120,8 @@ public class WGL {
         if (CHECKS) {
             check(hdc);
         }
-        return callPP(hdc, layerPlane, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(hdc, layerPlane, __functionAddress));
     }
 
     // --- [ wglCopyContext ] ---
@@ -137,7 +141,8 @@ public class WGL {
             check(src);
             check(dst);
         }
-        return callPPI(src, dst, mask, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(src, dst, mask, __functionAddress)) != 0;
     }
 
     // --- [ wglDeleteContext ] ---
@@ -153,7 +158,8 @@ public class WGL {
         if (CHECKS) {
             check(context);
         }
-        return callPI(context, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(context, __functionAddress)) != 0;
     }
 
     // --- [ wglGetCurrentContext ] ---
@@ -162,7 +168,8 @@ public class WGL {
     @NativeType("HGLRC")
     public static long wglGetCurrentContext() {
         long __functionAddress = Functions.GetCurrentContext;
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callP(__functionAddress));
     }
 
     // --- [ wglGetCurrentDC ] ---
@@ -171,7 +178,8 @@ public class WGL {
     @NativeType("HDC")
     public static long wglGetCurrentDC() {
         long __functionAddress = Functions.GetCurrentDC;
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callP(__functionAddress));
     }
 
     // --- [ wglGetProcAddress ] ---
@@ -179,7 +187,8 @@ public class WGL {
     /** Unsafe version of: {@link #wglGetProcAddress GetProcAddress} */
     public static long nwglGetProcAddress(long proc) {
         long __functionAddress = Functions.GetProcAddress;
-        return callPP(proc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPP(proc, __functionAddress));
     }
 
     /**
@@ -228,7 +237,8 @@ public class WGL {
     @NativeType("BOOL")
     public static boolean wglMakeCurrent(@NativeType("HDC") long hdc, @NativeType("HGLRC") long hglrc) {
         long __functionAddress = Functions.MakeCurrent;
-        return callPPI(hdc, hglrc, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPI(hdc, hglrc, __functionAddress)) != 0;
     }
 
     // --- [ wglShareLists ] ---
@@ -247,7 +257,8 @@ public class WGL {
             check(hglrc1);
             check(hglrc2);
         }
-        return callPPI(hglrc1, hglrc2, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(hglrc1, hglrc2, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
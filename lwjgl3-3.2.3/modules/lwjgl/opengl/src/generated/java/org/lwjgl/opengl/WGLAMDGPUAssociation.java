@@ -42,6 +42,8 @@ public class WGLAMDGPUAssociation {
         WGL_GPU_NUM_RB_AMD                = 0x21A7,
         WGL_GPU_NUM_SPI_AMD               = 0x21A8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLAMDGPUAssociation.class, "wglGetGPUIDsAMD,wglGetGPUInfoAMD,wglGetContextGPUIDAMD,wglCreateAssociatedContextAMD,wglCreateAssociatedContextAttribsAMD,wglDeleteAssociatedContextAMD,wglMakeAssociatedContextCurrentAMD,wglGetCurrentAssociatedContextAMD,wglBlitContextFramebufferAMD");
+
     protected WGLAMDGPUAssociation() {
         throw new UnsupportedOperationException();
     }
@@ -66,7 +68,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(maxCount, ids, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(maxCount, ids, __functionAddress));
     }
 
     /**
@@ -95,7 +98,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(id, property, dataType, size, data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(id, property, dataType, size, data, __functionAddress));
     }
 
     /**
@@ -170,7 +174,8 @@ public class WGLAMDGPUAssociation {
             check(__functionAddress);
             check(hglrc);
         }
-        return callPI(hglrc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(hglrc, __functionAddress));
     }
 
     // --- [ wglCreateAssociatedContextAMD ] ---
@@ -186,7 +191,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(id, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callP(id, __functionAddress));
     }
 
     // --- [ wglCreateAssociatedContextAttribsAMD ] ---
@@ -197,7 +203,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPP(id, shareContext, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPP(id, shareContext, attribList, __functionAddress));
     }
 
     /**
@@ -231,7 +238,8 @@ public class WGLAMDGPUAssociation {
             check(__functionAddress);
             check(hglrc);
         }
-        return callPI(hglrc, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(hglrc, __functionAddress)) != 0;
     }
 
     // --- [ wglMakeAssociatedContextCurrentAMD ] ---
@@ -248,7 +256,8 @@ public class WGLAMDGPUAssociation {
             check(__functionAddress);
             check(hglrc);
         }
-        return callPI(hglrc, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPI(hglrc, __functionAddress)) != 0;
     }
 
     // --- [ wglGetCurrentAssociatedContextAMD ] ---
@@ -260,7 +269,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callP(__functionAddress));
     }
 
     // --- [ wglBlitContextFramebufferAMD ] ---
@@ -287,7 +297,9 @@ public class WGLAMDGPUAssociation {
             check(__functionAddress);
             check(dstCtx);
         }
+        long __start = FunctionProfiler.start();
         callPV(dstCtx, srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #wglGetGPUIDsAMD GetGPUIDsAMD} */
@@ -297,7 +309,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(lengthSafe(ids), ids, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(lengthSafe(ids), ids, __functionAddress));
     }
 
     /** Array version of: {@link #wglGetGPUInfoAMD GetGPUInfoAMD} */
@@ -306,7 +319,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(id, property, dataType, data.length, data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(id, property, dataType, data.length, data, __functionAddress));
     }
 
     /** Array version of: {@link #wglGetGPUInfoAMD GetGPUInfoAMD} */
@@ -315,7 +329,8 @@ public class WGLAMDGPUAssociation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(id, property, dataType, data.length, data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(id, property, dataType, data.length, data, __functionAddress));
     }
 
     /** Array version of: {@link #wglCreateAssociatedContextAttribsAMD CreateAssociatedContextAttribsAMD} */
@@ -326,7 +341,8 @@ public class WGLAMDGPUAssociation {
             check(__functionAddress);
             checkNTSafe(attribList);
         }
-        return callPPP(id, shareContext, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPP(id, shareContext, attribList, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ public class WGLARBBufferRegion {
         WGL_DEPTH_BUFFER_BIT_ARB       = 0x4,
         WGL_STENCIL_BUFFER_BIT_ARB     = 0x8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBBufferRegion.class, "wglCreateBufferRegionARB,wglDeleteBufferRegionARB,wglSaveBufferRegionARB,wglRestoreBufferRegionARB");
+
     protected WGLARBBufferRegion() {
         throw new UnsupportedOperationException();
     }
@@ -55,7 +57,8 @@ public class WGLARBBufferRegion {
             check(__functionAddress);
             check(hdc);
         }
-        return callPP(hdc, layerPlane, type, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(hdc, layerPlane, type, __functionAddress));
     }
 
     // --- [ wglDeleteBufferRegionARB ] ---
@@ -72,7 +75,9 @@ public class WGLARBBufferRegion {
             check(__functionAddress);
             check(region);
         }
+        long __start = FunctionProfiler.start();
         callPV(region, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ wglSaveBufferRegionARB ] ---
@@ -100,7 +105,8 @@ public class WGLARBBufferRegion {
             check(__functionAddress);
             check(region);
         }
-        return callPI(region, x, y, width, height, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(region, x, y, width, height, __functionAddress)) != 0;
     }
 
     // --- [ wglRestoreBufferRegionARB ] ---
@@ -123,7 +129,8 @@ public class WGLARBBufferRegion {
             check(__functionAddress);
             check(region);
         }
-        return callPI(region, x, y, width, height, xSrc, ySrc, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(region, x, y, width, height, xSrc, ySrc, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
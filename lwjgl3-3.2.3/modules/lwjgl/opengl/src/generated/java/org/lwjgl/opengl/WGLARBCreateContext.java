@@ -41,6 +41,8 @@ public class WGLARBCreateContext {
     /** New errors returned by {@link org.lwjgl.system.windows.WinBase#GetLastError}. */
     public static final int ERROR_INVALID_VERSION_ARB = 0x2095;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBCreateContext.class, "wglCreateContextAttribsARB");
+
     protected WGLARBCreateContext() {
         throw new UnsupportedOperationException();
     }
@@ -60,7 +62,8 @@ public class WGLARBCreateContext {
             check(__functionAddress);
             check(hdc);
         }
-        return callPPPP(hdc, shareContext, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(hdc, shareContext, attribList, __functionAddress));
     }
 
     /**
@@ -90,7 +93,8 @@ public class WGLARBCreateContext {
             check(hdc);
             checkNTSafe(attribList);
         }
-        return callPPPP(hdc, shareContext, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPP(hdc, shareContext, attribList, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class WGLARBExtensionsString {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBExtensionsString.class, "wglGetExtensionsStringARB");
+
     protected WGLARBExtensionsString() {
         throw new UnsupportedOperationException();
     }
@@ -40,7 +42,8 @@ public class WGLARBExtensionsString {
             check(__functionAddress);
             check(hdc);
         }
-        return callPP(hdc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPP(hdc, __functionAddress));
     }
 
     /**
@@ -25,6 +25,8 @@ public class WGLARBMakeCurrentRead {
         ERROR_INVALID_PIXEL_TYPE_ARB           = 0x2043,
         ERROR_INCOMPATIBLE_DEVICE_CONTEXTS_ARB = 0x2054;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBMakeCurrentRead.class, "wglMakeContextCurrentARB,wglGetCurrentReadDCARB");
+
     protected WGLARBMakeCurrentRead() {
         throw new UnsupportedOperationException();
     }
@@ -73,7 +75,8 @@ public class WGLARBMakeCurrentRead {
             check(readDC);
             check(hglrc);
         }
-        return callPPPI(drawDC, readDC, hglrc, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(drawDC, readDC, hglrc, __functionAddress)) != 0;
     }
 
     // --- [ wglGetCurrentReadDCARB ] ---
@@ -85,7 +88,8 @@ public class WGLARBMakeCurrentRead {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callP(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -61,6 +61,8 @@ public class WGLARBPbuffer {
         WGL_PBUFFER_HEIGHT_ARB = 0x2035,
         WGL_PBUFFER_LOST_ARB   = 0x2036;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBPbuffer.class, "wglCreatePbufferARB,wglGetPbufferDCARB,wglReleasePbufferDCARB,wglDestroyPbufferARB,wglQueryPbufferARB");
+
     protected WGLARBPbuffer() {
         throw new UnsupportedOperationException();
     }
@@ -80,7 +82,8 @@ public class WGLARBPbuffer {
             check(__functionAddress);
             check(hdc);
         }
-        return callPPP(hdc, pixelFormat, width, height, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(hdc, pixelFormat, width, height, attribList, __functionAddress));
     }
 
     /**
@@ -117,7 +120,8 @@ public class WGLARBPbuffer {
             check(__functionAddress);
             check(pbuffer);
         }
-        return callPP(pbuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(pbuffer, __functionAddress));
     }
 
     // --- [ wglReleasePbufferDCARB ] ---
@@ -135,7 +139,8 @@ public class WGLARBPbuffer {
             check(pbuffer);
             check(hdc);
         }
-        return callPPI(pbuffer, hdc, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(pbuffer, hdc, __functionAddress));
     }
 
     // --- [ wglDestroyPbufferARB ] ---
@@ -155,7 +160,8 @@ public class WGLARBPbuffer {
             check(__functionAddress);
             check(pbuffer);
         }
-        return callPI(pbuffer, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPI(pbuffer, __functionAddress)) != 0;
     }
 
     // --- [ wglQueryPbufferARB ] ---
@@ -167,7 +173,8 @@ public class WGLARBPbuffer {
             check(__functionAddress);
             check(pbuffer);
         }
-        return callPPI(pbuffer, attribute, value, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(pbuffer, attribute, value, __functionAddress));
     }
 
     /**
@@ -194,7 +201,8 @@ public class WGLARBPbuffer {
             check(hdc);
             checkNTSafe(attribList);
         }
-        return callPPP(hdc, pixelFormat, width, height, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPP(hdc, pixelFormat, width, height, attribList, __functionAddress));
     }
 
     /** Array version of: {@link #wglQueryPbufferARB QueryPbufferARB} */
@@ -206,7 +214,8 @@ public class WGLARBPbuffer {
             check(pbuffer);
             check(value, 1);
         }
-        return callPPI(pbuffer, attribute, value, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(pbuffer, attribute, value, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -89,6 +89,8 @@ public class WGLARBPixelFormat {
         WGL_TYPE_RGBA_ARB            = 0x202B,
         WGL_TYPE_COLORINDEX_ARB      = 0x202C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBPixelFormat.class, "wglGetPixelFormatAttribivARB,wglGetPixelFormatAttribfvARB,wglChoosePixelFormatARB");
+
     protected WGLARBPixelFormat() {
         throw new UnsupportedOperationException();
     }
@@ -112,7 +114,8 @@ public class WGLARBPixelFormat {
             check(__functionAddress);
             check(hdc);
         }
-        return callPPPI(hdc, pixelFormat, layerPlane, n, attributes, values, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(hdc, pixelFormat, layerPlane, n, attributes, values, __functionAddress));
     }
 
     /**
@@ -163,7 +166,8 @@ public class WGLARBPixelFormat {
             check(__functionAddress);
             check(hdc);
         }
-        return callPPPI(hdc, pixelFormat, layerPlane, n, attributes, values, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(hdc, pixelFormat, layerPlane, n, attributes, values, __functionAddress));
     }
 
     /**
@@ -218,7 +222,8 @@ public class WGLARBPixelFormat {
             check(__functionAddress);
             check(hdc);
         }
-        return callPPPPPI(hdc, attribIList, attribFList, maxFormats, formats, numFormats, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPPI(hdc, attribIList, attribFList, maxFormats, formats, numFormats, __functionAddress));
     }
 
     /**
@@ -252,7 +257,8 @@ public class WGLARBPixelFormat {
             check(hdc);
             check(values, attributes.length);
         }
-        return callPPPI(hdc, pixelFormat, layerPlane, attributes.length, attributes, values, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(hdc, pixelFormat, layerPlane, attributes.length, attributes, values, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #wglGetPixelFormatAttribfvARB GetPixelFormatAttribfvARB} */
@@ -264,7 +270,8 @@ public class WGLARBPixelFormat {
             check(hdc);
             check(values, attributes.length);
         }
-        return callPPPI(hdc, pixelFormat, layerPlane, attributes.length, attributes, values, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(hdc, pixelFormat, layerPlane, attributes.length, attributes, values, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #wglChoosePixelFormatARB ChoosePixelFormatARB} */
@@ -278,7 +285,8 @@ public class WGLARBPixelFormat {
             checkNTSafe(attribFList);
             check(numFormats, 1);
         }
-        return callPPPPPI(hdc, attribIList, attribFList, formats.length, formats, numFormats, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPPI(hdc, attribIList, attribFList, formats.length, formats, numFormats, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -108,6 +108,8 @@ public class WGLARBRenderTexture {
         WGL_AUX8_ARB        = 0x208F,
         WGL_AUX9_ARB        = 0x2090;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLARBRenderTexture.class, "wglBindTexImageARB,wglReleaseTexImageARB,wglSetPbufferAttribARB");
+
     protected WGLARBRenderTexture() {
         throw new UnsupportedOperationException();
     }
@@ -135,7 +137,8 @@ public class WGLARBRenderTexture {
             check(__functionAddress);
             check(pbuffer);
         }
-        return callPI(pbuffer, buffer, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pbuffer, buffer, __functionAddress)) != 0;
     }
 
     // --- [ wglReleaseTexImageARB ] ---
@@ -154,7 +157,8 @@ public class WGLARBRenderTexture {
             check(__functionAddress);
             check(pbuffer);
         }
-        return callPI(pbuffer, buffer, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(pbuffer, buffer, __functionAddress)) != 0;
     }
 
     // --- [ wglSetPbufferAttribARB ] ---
@@ -166,7 +170,8 @@ public class WGLARBRenderTexture {
             check(__functionAddress);
             check(pbuffer);
         }
-        return callPPI(pbuffer, attribList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(pbuffer, attribList, __functionAddress));
     }
 
     /**
@@ -192,7 +197,8 @@ public class WGLARBRenderTexture {
             check(pbuffer);
             checkNTSafe(attribList);
         }
-        return callPPI(pbuffer, attribList, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(pbuffer, attribList, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
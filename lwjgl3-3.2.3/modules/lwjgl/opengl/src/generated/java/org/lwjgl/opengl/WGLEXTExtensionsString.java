@@ -16,6 +16,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Native bindings to the <a target="_blank" href="https://www.khronos.org/registry/OpenGL/extensions/EXT/WGL_EXT_extensions_string.txt">WGL_EXT_extensions_string</a> extension. */
 public class WGLEXTExtensionsString {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLEXTExtensionsString.class, "wglGetExtensionsStringEXT");
+
     protected WGLEXTExtensionsString() {
         throw new UnsupportedOperationException();
     }
@@ -34,7 +36,8 @@ public class WGLEXTExtensionsString {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(__functionAddress));
     }
 
     /**
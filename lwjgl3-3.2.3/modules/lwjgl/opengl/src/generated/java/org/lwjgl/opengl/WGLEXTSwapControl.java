@@ -19,6 +19,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class WGLEXTSwapControl {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLEXTSwapControl.class, "wglSwapIntervalEXT,wglGetSwapIntervalEXT");
+
     protected WGLEXTSwapControl() {
         throw new UnsupportedOperationException();
     }
@@ -52,7 +54,8 @@ public class WGLEXTSwapControl {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(interval, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callI(interval, __functionAddress)) != 0;
     }
 
     // --- [ wglGetSwapIntervalEXT ] ---
@@ -63,7 +66,8 @@ public class WGLEXTSwapControl {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.JNI.*;
  */
 public class WGLNVCopyImage {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLNVCopyImage.class, "wglCopyImageSubDataNV");
+
     protected WGLNVCopyImage() {
         throw new UnsupportedOperationException();
     }
@@ -62,7 +64,8 @@ public class WGLNVCopyImage {
             check(srcRC);
             check(dstRC);
         }
-        return callPPI(srcRC, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstRC, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, width, height, depth, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(srcRC, srcName, srcTarget, srcLevel, srcX, srcY, srcZ, dstRC, dstName, dstTarget, dstLevel, dstX, dstY, dstZ, width, height, depth, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -29,6 +29,8 @@ public class WGLNVDXInterop {
         WGL_ACCESS_READ_WRITE_NV    = 0x1,
         WGL_ACCESS_WRITE_DISCARD_NV = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLNVDXInterop.class, "wglDXSetResourceShareHandleNV,wglDXOpenDeviceNV,wglDXCloseDeviceNV,wglDXRegisterObjectNV,wglDXUnregisterObjectNV,wglDXObjectAccessNV,wglDXLockObjectsNV,wglDXUnlockObjectsNV");
+
     protected WGLNVDXInterop() {
         throw new UnsupportedOperationException();
     }
@@ -54,7 +56,8 @@ public class WGLNVDXInterop {
             check(dxObject);
             check(shareHandle);
         }
-        return callPPI(dxObject, shareHandle, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(dxObject, shareHandle, __functionAddress)) != 0;
     }
 
     // --- [ wglDXOpenDeviceNV ] ---
@@ -71,7 +74,8 @@ public class WGLNVDXInterop {
             check(__functionAddress);
             check(dxDevice);
         }
-        return callPP(dxDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPP(dxDevice, __functionAddress));
     }
 
     // --- [ wglDXCloseDeviceNV ] ---
@@ -83,7 +87,8 @@ public class WGLNVDXInterop {
             check(__functionAddress);
             check(device);
         }
-        return callPI(device, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(device, __functionAddress)) != 0;
     }
 
     // --- [ wglDXRegisterObjectNV ] ---
@@ -105,7 +110,8 @@ public class WGLNVDXInterop {
             check(device);
             check(dxResource);
         }
-        return callPPP(device, dxResource, name, type, access, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPP(device, dxResource, name, type, access, __functionAddress));
     }
 
     // --- [ wglDXUnregisterObjectNV ] ---
@@ -118,7 +124,8 @@ public class WGLNVDXInterop {
             check(device);
             check(object);
         }
-        return callPPI(device, object, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(device, object, __functionAddress)) != 0;
     }
 
     // --- [ wglDXObjectAccessNV ] ---
@@ -136,7 +143,8 @@ public class WGLNVDXInterop {
             check(__functionAddress);
             check(object);
         }
-        return callPI(object, access, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(object, access, __functionAddress)) != 0;
     }
 
     // --- [ wglDXLockObjectsNV ] ---
@@ -152,7 +160,8 @@ public class WGLNVDXInterop {
             check(__functionAddress);
             check(device);
         }
-        return callPPI(device, count, objects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPI(device, count, objects, __functionAddress));
     }
 
     /**
@@ -186,7 +195,8 @@ public class WGLNVDXInterop {
             check(__functionAddress);
             check(device);
         }
-        return callPPI(device, count, objects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPI(device, count, objects, __functionAddress));
     }
 
     /**
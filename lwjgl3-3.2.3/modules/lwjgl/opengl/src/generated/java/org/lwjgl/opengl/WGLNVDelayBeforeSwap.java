@@ -23,6 +23,8 @@ import org.lwjgl.system.windows.WinBase;
  */
 public class WGLNVDelayBeforeSwap {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLNVDelayBeforeSwap.class, "wglDelayBeforeSwapNV");
+
     protected WGLNVDelayBeforeSwap() {
         throw new UnsupportedOperationException();
     }
@@ -69,7 +71,8 @@ public class WGLNVDelayBeforeSwap {
             check(__functionAddress);
             check(hDC);
         }
-        return callPI(hDC, seconds, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(hDC, seconds, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -33,6 +33,8 @@ public class WGLNVGPUAffinity {
     /** New error code set by {@link WGL#wglMakeCurrent MakeCurrent} and {@link WGLARBMakeCurrentRead#wglMakeContextCurrentARB MakeContextCurrentARB}. */
     public static final int ERROR_MISSING_AFFINITY_MASK_NV = 0x20D1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLNVGPUAffinity.class, "wglEnumGpusNV,wglEnumGpuDevicesNV,wglCreateAffinityDCNV,wglEnumGpusFromAffinityDCNV,wglDeleteDCNV");
+
     protected WGLNVGPUAffinity() {
         throw new UnsupportedOperationException();
     }
@@ -51,7 +53,8 @@ public class WGLNVGPUAffinity {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(gpuIndex, gpu, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(gpuIndex, gpu, __functionAddress));
     }
 
     /**
@@ -81,7 +84,8 @@ public class WGLNVGPUAffinity {
             check(__functionAddress);
             check(gpu);
         }
-        return callPPI(gpu, deviceIndex, gpuDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(gpu, deviceIndex, gpuDevice, __functionAddress));
     }
 
     /**
@@ -104,7 +108,8 @@ public class WGLNVGPUAffinity {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPP(gpuList, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPP(gpuList, __functionAddress));
     }
 
     /**
@@ -134,7 +139,8 @@ public class WGLNVGPUAffinity {
             check(__functionAddress);
             check(affinityDC);
         }
-        return callPPI(affinityDC, gpuIndex, gpu, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(affinityDC, gpuIndex, gpu, __functionAddress));
     }
 
     /**
@@ -170,7 +176,8 @@ public class WGLNVGPUAffinity {
             check(__functionAddress);
             check(hdc);
         }
-        return callPI(hdc, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(hdc, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
@@ -26,6 +26,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class WGLNVSwapGroup {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLNVSwapGroup.class, "wglJoinSwapGroupNV,wglBindSwapBarrierNV,wglQuerySwapGroupNV,wglQueryMaxSwapGroupsNV,wglQueryFrameCountNV,wglResetFrameCountNV");
+
     protected WGLNVSwapGroup() {
         throw new UnsupportedOperationException();
     }
@@ -46,7 +48,8 @@ public class WGLNVSwapGroup {
             check(__functionAddress);
             check(hDC);
         }
-        return callPI(hDC, group, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(hDC, group, __functionAddress)) != 0;
     }
 
     // --- [ wglBindSwapBarrierNV ] ---
@@ -57,7 +60,8 @@ public class WGLNVSwapGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(group, barrier, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(group, barrier, __functionAddress)) != 0;
     }
 
     // --- [ wglQuerySwapGroupNV ] ---
@@ -68,7 +72,8 @@ public class WGLNVSwapGroup {
             check(__functionAddress);
             check(hDC);
         }
-        return callPPPI(hDC, group, barrier, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(hDC, group, barrier, __functionAddress));
     }
 
     @NativeType("BOOL")
@@ -88,7 +93,8 @@ public class WGLNVSwapGroup {
             check(__functionAddress);
             check(hDC);
         }
-        return callPPPI(hDC, maxGroups, maxBarriers, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(hDC, maxGroups, maxBarriers, __functionAddress));
     }
 
     @NativeType("BOOL")
@@ -108,7 +114,8 @@ public class WGLNVSwapGroup {
             check(__functionAddress);
             check(hDC);
         }
-        return callPPI(hDC, count, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(hDC, count, __functionAddress));
     }
 
     @NativeType("BOOL")
@@ -128,7 +135,8 @@ public class WGLNVSwapGroup {
             check(__functionAddress);
             check(hDC);
         }
-        return callPI(hDC, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(hDC, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #wglQuerySwapGroupNV QuerySwapGroupNV} */
@@ -141,7 +149,8 @@ public class WGLNVSwapGroup {
             check(group, 1);
             check(barrier, 1);
         }
-        return callPPPI(hDC, group, barrier, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(hDC, group, barrier, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #wglQueryMaxSwapGroupsNV QueryMaxSwapGroupsNV} */
@@ -154,7 +163,8 @@ public class WGLNVSwapGroup {
             check(maxGroups, 1);
             check(maxBarriers, 1);
         }
-        return callPPPI(hDC, maxGroups, maxBarriers, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(hDC, maxGroups, maxBarriers, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #wglQueryFrameCountNV QueryFrameCountNV} */
@@ -166,7 +176,8 @@ public class WGLNVSwapGroup {
             check(hDC);
             check(count, 1);
         }
-        return callPPI(hDC, count, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(hDC, count, __functionAddress)) != 0;
     }
 
 }
\ No newline at end of file
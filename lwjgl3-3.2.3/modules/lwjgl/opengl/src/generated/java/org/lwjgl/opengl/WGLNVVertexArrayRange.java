@@ -17,6 +17,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class WGLNVVertexArrayRange {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(WGLNVVertexArrayRange.class, "wglAllocateMemoryNV,wglFreeMemoryNV");
+
     protected WGLNVVertexArrayRange() {
         throw new UnsupportedOperationException();
     }
@@ -34,7 +36,8 @@ public class WGLNVVertexArrayRange {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(size, readfreq, writefreq, priority, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(size, readfreq, writefreq, priority, __functionAddress));
     }
 
     @Nullable
@@ -51,7 +54,9 @@ public class WGLNVVertexArrayRange {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pointer, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void wglFreeMemoryNV(@NativeType("void *") ByteBuffer pointer) {
@@ -11,6 +11,7 @@ import org.lwjgl.system.windows.*;
 import javax.annotation.*;
 import java.nio.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 import static java.lang.Math.*;
 import static org.lwjgl.opengl.GL32C.*;
@@ -53,6 +54,12 @@ import static org.lwjgl.system.windows.WindowsUtil.*;
  * current in another thread.</p>
  *
  * <p>Note that the {@link #createCapabilities} method implicitly calls {@link #setCapabilities} with the newly created instance.</p>
+ *
+ * <h3>Compatibility classes</h3>
+ * <p>{@code GLCapabilities} instances are grouped into compatibility classes. An instance belongs to the class of the first instance that has the same
+ * address for each function it supports, which is usually the case for contexts created by the same driver. All instances in a class share a single
+ * function address table, so switching between their contexts is cheap and functions are called without a thread-local lookup. When an instance of a
+ * different class is made current, LWJGL falls back to thread-local lookups, which are counted by {@link #getCapabilitiesLookupCount}.</p>
  */
 public final class GL {
 
@@ -66,6 +73,10 @@ public final class GL {
 
     private static ICD icd = new ICDStatic();
 
+    private static final List<GLCapabilities> compatibilityClasses = new ArrayList<>();
+
+    private static final LongAdder capabilitiesLookups = new LongAdder();
+
     @Nullable
     private static WGLCapabilities capabilitiesWGL;
 
@@ -220,6 +231,10 @@ public final class GL {
         capabilitiesWGL = null;
         capabilitiesGLX = null;
 
+        synchronized (compatibilityClasses) {
+            compatibilityClasses.clear();
+        }
+
         if (functionProvider instanceof NativeResource) {
             ((NativeResource)functionProvider).free();
         }
@@ -240,8 +255,52 @@ public final class GL {
      */
     public static void setCapabilities(@Nullable GLCapabilities caps) {
         capabilitiesTLS.set(caps);
-        ThreadLocalUtil.setEnv(caps == null ? NULL : memAddress(caps.addresses), 3);
-        icd.set(caps);
+
+        GLCapabilities compatibilityClass = caps == null ? null : getCompatibilityClass(caps);
+        ThreadLocalUtil.setEnv(compatibilityClass == null ? NULL : memAddress(compatibilityClass.addresses), 3);
+        icd.set(compatibilityClass);
+    }
+
+    private static GLCapabilities getCompatibilityClass(GLCapabilities caps) {
+        GLCapabilities compatibilityClass = caps.compatibilityClass;
+        if (compatibilityClass == null) {
+            synchronized (compatibilityClasses) {
+                compatibilityClass = caps.compatibilityClass;
+                if (compatibilityClass == null) {
+                    for (GLCapabilities c : compatibilityClasses) {
+                        if (!ThreadLocalUtil.areCapabilitiesDifferent(c.addresses, caps.addresses)) {
+                            compatibilityClass = c;
+                            break;
+                        }
+                    }
+                    if (compatibilityClass == null) {
+                        compatibilityClasses.add(caps);
+                        compatibilityClass = caps;
+                    }
+                    caps.compatibilityClass = compatibilityClass;
+                }
+            }
+        }
+        return compatibilityClass;
+    }
+
+    /**
+     * Returns the number of {@code GLCapabilities} compatibility classes.
+     *
+     * <p>OpenGL functions are called without a thread-local lookup, as long as this method returns 1.</p>
+     */
+    public static int getCompatibilityClassCount() {
+        synchronized (compatibilityClasses) {
+            return compatibilityClasses.size();
+        }
+    }
+
+    /**
+     * Returns the number of function address lookups that were performed via thread-local storage, because {@code GLCapabilities} instances of different
+     * compatibility classes have been made current.
+     */
+    public static long getCapabilitiesLookupCount() {
+        return capabilitiesLookups.sum();
     }
 
     /**
@@ -463,7 +522,7 @@ public final class GL {
                 }
             }
 
-            return caps = new GLCapabilities(functionProvider, supportedExtensions, forwardCompatible);
+            return caps = new GLCapabilities(functionProvider, supportedExtensions, forwardCompatible, Configuration.OPENGL_SUPPORTED_FUNCTIONS_ONLY.get(false));
         } finally {
             setCapabilities(caps);
         }
@@ -686,8 +745,8 @@ public final class GL {
     /**
      * Write-once {@link ICD}.
      *
-     * <p>This is the default implementation that skips the thread-local lookup. When a new GLCapabilities is set, we compare it to the write-once capabilities.
-     * If different function pointers are found, we fall back to the expensive lookup.</p>
+     * <p>This is the default implementation that skips the thread-local lookup. When a new GLCapabilities is set, we compare its compatibility class to the
+     * write-once capabilities. If the class is different, we fall back to the expensive lookup.</p>
      */
     private static class ICDStatic implements ICD {
 
@@ -698,9 +757,9 @@ public final class GL {
         public void set(@Nullable GLCapabilities caps) {
             if (tempCaps == null) {
                 tempCaps = caps;
-            } else if (caps != null && caps != tempCaps && ThreadLocalUtil.areCapabilitiesDifferent(tempCaps.addresses, caps.addresses)) {
+            } else if (caps != null && caps != tempCaps) {
                 apiLog("[WARNING] Incompatible context detected. Falling back to thread-local lookup for GL contexts.");
-                icd = GL::getCapabilities; // fall back to thread/process lookup
+                icd = new ICDThreadLocal(); // fall back to thread/process lookup
             }
         }
 
@@ -723,4 +782,15 @@ public final class GL {
 
     }
 
+    /** Thread-local {@link ICD}, used when contexts of different compatibility classes are current. */
+    private static class ICDThreadLocal implements ICD {
+
+        @Override
+        public GLCapabilities get() {
+            capabilitiesLookups.increment();
+            return capabilitiesTLS.get();
+        }
+
+    }
+
 }
@@ -48,6 +48,29 @@ val GLBinding = Generator.register(object : APIBinding(
 
     override fun getFunctionOrdinal(function: Func) = functionOrdinals[function.name]!!
 
+    // function ordinal ranges -> the versions and extensions that include them
+    private val functionRanges by lazy {
+        val owners = HashMap<String, LinkedHashSet<String>>()
+        classes
+            .asSequence()
+            .filter { it.hasNativeFunctions }
+            .forEach { nativeClass ->
+                val capName = if (nativeClass.isCore) nativeClass.capName.dropLast(1) else nativeClass.capName
+                nativeClass.functions.forEach { owners.getOrPut(it.name, ::LinkedHashSet).add(capName) }
+            }
+
+        val ranges = ArrayList<Triple<Int, Int, Set<String>>>()
+        functions.forEachIndexed { index, func ->
+            val capNames = owners[func.name]!!
+            val last = ranges.lastOrNull()
+            if (last != null && last.third == capNames)
+                ranges[ranges.size - 1] = Triple(last.first, index + 1, capNames)
+            else
+                ranges.add(Triple(index, index + 1, capNames))
+        }
+        ranges
+    }
+
     override fun printCustomJavadoc(writer: PrintWriter, function: Func, documentation: String): Boolean {
         if (function.nativeClass.templateName.startsWith("GL")) {
             writer.printOpenGLJavaDoc(documentation, function.nativeName, function has DeprecatedGL)
@@ -155,6 +178,8 @@ val GLBinding = Generator.register(object : APIBinding(
     init {
         javaImport(
             "org.lwjgl.*",
+            "java.util.Arrays",
+            "javax.annotation.*",
             "static org.lwjgl.system.APIUtil.*",
             "static org.lwjgl.system.MemoryUtil.*"
         )
@@ -185,15 +210,21 @@ val GLBinding = Generator.register(object : APIBinding(
     /** Off-heap array of the above function addresses. */
     final PointerBuffer addresses;
 
-    $CAPABILITIES_CLASS(FunctionProvider provider, Set<String> ext, boolean fc) {
+    /** The first instance with compatible function addresses. Assigned by {@link GL#setCapabilities}. */
+    @Nullable
+    $CAPABILITIES_CLASS compatibilityClass;
+
+    $CAPABILITIES_CLASS(FunctionProvider provider, Set<String> ext, boolean fc, boolean supportedOnly) {
         forwardCompatible = fc;
+
+        boolean[] unsupported = supportedOnly ? getUnsupportedFunctions(ext) : null;
 """)
 
         println(functions.joinToString(prefix = "$t$t", separator = "\n$t$t") {
             if (it has DeprecatedGL && !it.has<DependsOn>())
-                "${it.name} = getFunctionAddress(fc, provider, ${it.functionAddress});"
+                "${it.name} = getFunctionAddress(fc, provider, unsupported, ${functionOrdinals[it.name]}, ${it.functionAddress});"
             else
-                "${it.name} = provider.getFunctionAddress(${it.functionAddress});"
+                "${it.name} = getFunctionAddress(provider, unsupported, ${functionOrdinals[it.name]}, ${it.functionAddress});"
         })
 
         for (extension in classes) {
@@ -218,8 +249,20 @@ val GLBinding = Generator.register(object : APIBinding(
         return ext.contains("GL45") || ext.contains("GL_ARB_direct_state_access") || ext.contains("GL_EXT_direct_state_access");
     }
 
-    private static long getFunctionAddress(boolean fc, FunctionProvider provider, String functionName) {
-        return fc ? NULL : provider.getFunctionAddress(functionName);
+    private static long getFunctionAddress(FunctionProvider provider, @Nullable boolean[] unsupported, int index, String functionName) {
+        return unsupported != null && unsupported[index] ? NULL : provider.getFunctionAddress(functionName);
+    }
+
+    private static long getFunctionAddress(boolean fc, FunctionProvider provider, @Nullable boolean[] unsupported, int index, String functionName) {
+        return fc ? NULL : getFunctionAddress(provider, unsupported, index, functionName);
+    }
+
+    private static boolean[] getUnsupportedFunctions(Set<String> ext) {
+        boolean[] unsupported = new boolean[${functions.size}];
+${functionRanges.joinToString("\n") { (from, to, capNames) ->
+        "$t${t}if (${capNames.joinToString(" && ") { "!ext.contains(\"$it\")" }}) { ${if (to - from == 1) "unsupported[$from] = true;" else "Arrays.fill(unsupported, $from, $to, true);"} }"
+    }}
+        return unsupported;
     }
 
     private static boolean checkExtension(String extension, boolean supported) {
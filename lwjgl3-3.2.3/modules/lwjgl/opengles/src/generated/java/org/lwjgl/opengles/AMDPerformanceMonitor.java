@@ -42,6 +42,8 @@ public class AMDPerformanceMonitor {
         GL_PERFMON_RESULT_SIZE_AMD      = 0x8BC5,
         GL_PERFMON_RESULT_AMD           = 0x8BC6;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDPerformanceMonitor.class, "glGetPerfMonitorGroupsAMD,glGetPerfMonitorCountersAMD,glGetPerfMonitorGroupStringAMD,glGetPerfMonitorCounterStringAMD,glGetPerfMonitorCounterInfoAMD,glGenPerfMonitorsAMD,glDeletePerfMonitorsAMD,glSelectPerfMonitorCountersAMD,glGetPerfMonitorCounterDataAMD");
+
     static { GLES.initialize(); }
 
     protected AMDPerformanceMonitor() {
@@ -64,7 +66,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             checkSafe(numGroups, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorGroupsAMD(memAddressSafe(numGroups), remainingSafe(groups), memAddressSafe(groups));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetPerfMonitorCountersAMD ] ---
@@ -76,7 +80,9 @@ public class AMDPerformanceMonitor {
             check(numCounters, 1);
             check(maxActiveCounters, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorCountersAMD(group, memAddress(numCounters), memAddress(maxActiveCounters), counters.remaining(), memAddress(counters));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glGetPerfMonitorGroupStringAMD ] ---
@@ -87,7 +93,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             check(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorGroupStringAMD(group, groupString.remaining(), memAddress(length), memAddress(groupString));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetPerfMonitorCounterStringAMD ] ---
@@ -98,7 +106,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorCounterStringAMD(group, counter, remainingSafe(counterString), memAddressSafe(length), memAddressSafe(counterString));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetPerfMonitorCounterInfoAMD ] ---
@@ -109,21 +119,27 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             check(data, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorCounterInfoAMD(group, counter, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glGetPerfMonitorCounterInfoAMD(@NativeType("GLuint") int group, @NativeType("GLuint") int counter, @NativeType("GLenum") int pname, @NativeType("void *") IntBuffer data) {
         if (CHECKS) {
             check(data, 4 >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorCounterInfoAMD(group, counter, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glGetPerfMonitorCounterInfoAMD(@NativeType("GLuint") int group, @NativeType("GLuint") int counter, @NativeType("GLenum") int pname, @NativeType("void *") FloatBuffer data) {
         if (CHECKS) {
             check(data, 4 >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorCounterInfoAMD(group, counter, pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGenPerfMonitorsAMD ] ---
@@ -131,7 +147,9 @@ public class AMDPerformanceMonitor {
     public static native void nglGenPerfMonitorsAMD(int n, long monitors);
 
     public static void glGenPerfMonitorsAMD(@NativeType("GLuint *") IntBuffer monitors) {
+        long __start = FunctionProfiler.start();
         nglGenPerfMonitorsAMD(monitors.remaining(), memAddress(monitors));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -139,7 +157,9 @@ public class AMDPerformanceMonitor {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer monitors = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenPerfMonitorsAMD(1, memAddress(monitors));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return monitors.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -151,14 +171,18 @@ public class AMDPerformanceMonitor {
     public static native void nglDeletePerfMonitorsAMD(int n, long monitors);
 
     public static void glDeletePerfMonitorsAMD(@NativeType("GLuint *") IntBuffer monitors) {
+        long __start = FunctionProfiler.start();
         nglDeletePerfMonitorsAMD(monitors.remaining(), memAddress(monitors));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     public static void glDeletePerfMonitorsAMD(@NativeType("GLuint *") int monitor) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer monitors = stack.ints(monitor);
+            long __start = FunctionProfiler.start();
             nglDeletePerfMonitorsAMD(1, memAddress(monitors));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -169,7 +193,9 @@ public class AMDPerformanceMonitor {
     public static native void nglSelectPerfMonitorCountersAMD(int monitor, boolean enable, int group, int numCounters, long counterList);
 
     public static void glSelectPerfMonitorCountersAMD(@NativeType("GLuint") int monitor, @NativeType("GLboolean") boolean enable, @NativeType("GLuint") int group, @NativeType("GLuint *") IntBuffer counterList) {
+        long __start = FunctionProfiler.start();
         nglSelectPerfMonitorCountersAMD(monitor, enable, group, counterList.remaining(), memAddress(counterList));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glBeginPerfMonitorAMD ] ---
@@ -188,7 +214,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             checkSafe(bytesWritten, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfMonitorCounterDataAMD(monitor, pname, data.remaining(), memAddress(data), memAddressSafe(bytesWritten));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorGroupsAMD GetPerfMonitorGroupsAMD} */
@@ -198,7 +226,9 @@ public class AMDPerformanceMonitor {
             check(__functionAddress);
             checkSafe(numGroups, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(numGroups, lengthSafe(groups), groups, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorCountersAMD GetPerfMonitorCountersAMD} */
@@ -209,7 +239,9 @@ public class AMDPerformanceMonitor {
             check(numCounters, 1);
             check(maxActiveCounters, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(group, numCounters, maxActiveCounters, counters.length, counters, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorGroupStringAMD GetPerfMonitorGroupStringAMD} */
@@ -219,7 +251,9 @@ public class AMDPerformanceMonitor {
             check(__functionAddress);
             check(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(group, groupString.remaining(), length, memAddress(groupString), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorCounterStringAMD GetPerfMonitorCounterStringAMD} */
@@ -229,7 +263,9 @@ public class AMDPerformanceMonitor {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(group, counter, remainingSafe(counterString), length, memAddressSafe(counterString), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorCounterInfoAMD GetPerfMonitorCounterInfoAMD} */
@@ -239,7 +275,9 @@ public class AMDPerformanceMonitor {
             check(__functionAddress);
             check(data, 4 >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(group, counter, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorCounterInfoAMD GetPerfMonitorCounterInfoAMD} */
@@ -249,7 +287,9 @@ public class AMDPerformanceMonitor {
             check(__functionAddress);
             check(data, 4 >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(group, counter, pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGenPerfMonitorsAMD GenPerfMonitorsAMD} */
@@ -258,7 +298,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(monitors.length, monitors, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glDeletePerfMonitorsAMD DeletePerfMonitorsAMD} */
@@ -267,7 +309,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(monitors.length, monitors, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glSelectPerfMonitorCountersAMD SelectPerfMonitorCountersAMD} */
@@ -276,7 +320,9 @@ public class AMDPerformanceMonitor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(monitor, enable, group, counterList.length, counterList, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetPerfMonitorCounterDataAMD GetPerfMonitorCounterDataAMD} */
@@ -286,7 +332,9 @@ public class AMDPerformanceMonitor {
             check(__functionAddress);
             checkSafe(bytesWritten, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(monitor, pname, data.length, data, bytesWritten, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
 }
\ No newline at end of file
@@ -34,6 +34,8 @@ public class ANGLEInstancedArrays {
     /** Accepted by the {@code pname} parameters of GetVertexAttribfv and GetVertexAttribiv. */
     public static final int GL_VERTEX_ATTRIB_ARRAY_DIVISOR_ANGLE = 0x88FE;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANGLEInstancedArrays.class, "glDrawElementsInstancedANGLE");
+
     static { GLES.initialize(); }
 
     protected ANGLEInstancedArrays() {
@@ -55,23 +57,33 @@ public class ANGLEInstancedArrays {
     public static native void nglDrawElementsInstancedANGLE(int mode, int count, int type, long indices, int primcount);
 
     public static void glDrawElementsInstancedANGLE(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedANGLE(mode, count, type, indices, primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedANGLE(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedANGLE(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedANGLE(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedANGLE(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedANGLE(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedANGLE(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsInstancedANGLE(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int primcount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedANGLE(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), primcount);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glVertexAttribDivisorANGLE ] ---
@@ -32,6 +32,8 @@ public class ANGLETranslatedShaderSource {
     /** Accepted by the {@code pname} parameter of GetShaderiv. */
     public static final int GL_TRANSLATED_SHADER_SOURCE_LENGTH_ANGLE = 0x93A0;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ANGLETranslatedShaderSource.class, "glGetTranslatedShaderSourceANGLE");
+
     static { GLES.initialize(); }
 
     protected ANGLETranslatedShaderSource() {
@@ -52,7 +54,9 @@ public class ANGLETranslatedShaderSource {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTranslatedShaderSourceANGLE(shader, source.remaining(), memAddressSafe(length), memAddress(source));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -61,7 +65,9 @@ public class ANGLETranslatedShaderSource {
         ByteBuffer source = memAlloc(bufsize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetTranslatedShaderSourceANGLE(shader, bufsize, memAddress(length), memAddress(source));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return memUTF8(source, length.get(0));
         } finally {
             memFree(source);
@@ -81,7 +87,9 @@ public class ANGLETranslatedShaderSource {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, source.remaining(), length, memAddress(source), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -72,6 +72,8 @@ public class APPLESync {
     /** Accepted by the {@code type} parameter of LabelObjectEXT and GetObjectLabelEXT. */
     public static final int GL_SYNC_OBJECT_APPLE = 0x8A53;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(APPLESync.class, "glIsSyncAPPLE,glDeleteSyncAPPLE,glClientWaitSyncAPPLE,glWaitSyncAPPLE,glGetInteger64vAPPLE,glGetSyncivAPPLE");
+
     static { GLES.initialize(); }
 
     protected APPLESync() {
@@ -99,7 +101,8 @@ public class APPLESync {
         if (CHECKS) {
             check(sync);
         }
-        return nglIsSyncAPPLE(sync);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglIsSyncAPPLE(sync));
     }
 
     // --- [ glDeleteSyncAPPLE ] ---
@@ -110,7 +113,9 @@ public class APPLESync {
         if (CHECKS) {
             check(sync);
         }
+        long __start = FunctionProfiler.start();
         nglDeleteSyncAPPLE(sync);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glClientWaitSyncAPPLE ] ---
@@ -122,7 +127,8 @@ public class APPLESync {
         if (CHECKS) {
             check(sync);
         }
-        return nglClientWaitSyncAPPLE(sync, flags, timeout);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nglClientWaitSyncAPPLE(sync, flags, timeout));
     }
 
     // --- [ glWaitSyncAPPLE ] ---
@@ -133,7 +139,9 @@ public class APPLESync {
         if (CHECKS) {
             check(sync);
         }
+        long __start = FunctionProfiler.start();
         nglWaitSyncAPPLE(sync, flags, timeout);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetInteger64vAPPLE ] ---
@@ -144,7 +152,9 @@ public class APPLESync {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetInteger64vAPPLE(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -152,7 +162,9 @@ public class APPLESync {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetInteger64vAPPLE(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -168,7 +180,9 @@ public class APPLESync {
             check(sync);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSyncivAPPLE(sync, pname, values.remaining(), memAddressSafe(length), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -180,7 +194,9 @@ public class APPLESync {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer values = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSyncivAPPLE(sync, pname, 1, memAddressSafe(length), memAddress(values));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return values.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -194,7 +210,9 @@ public class APPLESync {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetSyncivAPPLE GetSyncivAPPLE} */
@@ -205,7 +223,9 @@ public class APPLESync {
             check(sync);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(sync, pname, values.length, length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -50,6 +50,8 @@ public class EXTBlendFuncExtended {
     /** Accepted by the {@code pname} parameter of GetBooleanv, GetIntegerv, and GetFloatv. */
     public static final int GL_MAX_DUAL_SOURCE_DRAW_BUFFERS_EXT = 0x88FC;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTBlendFuncExtended.class, "glBindFragDataLocationIndexedEXT,glGetFragDataIndexEXT,glBindFragDataLocationEXT,glGetProgramResourceLocationIndexEXT");
+
     static { GLES.initialize(); }
 
     protected EXTBlendFuncExtended() {
@@ -70,7 +72,9 @@ public class EXTBlendFuncExtended {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindFragDataLocationIndexedEXT(program, colorNumber, index, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glBindFragDataLocationIndexedEXT(@NativeType("GLuint") int program, @NativeType("GLuint") int colorNumber, @NativeType("GLuint") int index, @NativeType("GLchar const *") CharSequence name) {
@@ -78,7 +82,9 @@ public class EXTBlendFuncExtended {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindFragDataLocationIndexedEXT(program, colorNumber, index, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -93,7 +99,8 @@ public class EXTBlendFuncExtended {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetFragDataIndexEXT(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nglGetFragDataIndexEXT(program, memAddress(name)));
     }
 
     @NativeType("GLint")
@@ -102,7 +109,8 @@ public class EXTBlendFuncExtended {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetFragDataIndexEXT(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, nglGetFragDataIndexEXT(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -116,7 +124,9 @@ public class EXTBlendFuncExtended {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindFragDataLocationEXT(program, colorNumber, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glBindFragDataLocationEXT(@NativeType("GLuint") int program, @NativeType("GLuint") int colorNumber, @NativeType("GLchar const *") CharSequence name) {
@@ -124,7 +134,9 @@ public class EXTBlendFuncExtended {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindFragDataLocationEXT(program, colorNumber, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -139,7 +151,8 @@ public class EXTBlendFuncExtended {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetProgramResourceLocationIndexEXT(program, programInterface, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetProgramResourceLocationIndexEXT(program, programInterface, memAddress(name)));
     }
 
     @NativeType("GLint")
@@ -148,7 +161,8 @@ public class EXTBlendFuncExtended {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetProgramResourceLocationIndexEXT(program, programInterface, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetProgramResourceLocationIndexEXT(program, programInterface, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
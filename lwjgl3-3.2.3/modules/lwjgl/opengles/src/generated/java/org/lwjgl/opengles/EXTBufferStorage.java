@@ -47,6 +47,8 @@ public class EXTBufferStorage {
     /** Accepted by the {@code barriers} parameter of MemoryBarrier. */
     public static final int GL_CLIENT_MAPPED_BUFFER_BARRIER_BIT_EXT = 0x4000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTBufferStorage.class, "glBufferStorageEXT,glNamedBufferStorageEXT");
+
     static { GLES.initialize(); }
 
     protected EXTBufferStorage() {
@@ -64,23 +66,33 @@ public class EXTBufferStorage {
     public static native void nglBufferStorageEXT(int target, long size, long data, int flags);
 
     public static void glBufferStorageEXT(@NativeType("GLenum") int target, @NativeType("GLsizeiptr") long size, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorageEXT(target, size, NULL, flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glBufferStorageEXT(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorageEXT(target, data.remaining(), memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glBufferStorageEXT(@NativeType("GLenum") int target, @NativeType("void const *") ShortBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorageEXT(target, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glBufferStorageEXT(@NativeType("GLenum") int target, @NativeType("void const *") IntBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorageEXT(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glBufferStorageEXT(@NativeType("GLenum") int target, @NativeType("void const *") FloatBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglBufferStorageEXT(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glNamedBufferStorageEXT ] ---
@@ -88,23 +100,33 @@ public class EXTBufferStorage {
     public static native void nglNamedBufferStorageEXT(int buffer, long size, long data, int flags);
 
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("GLsizeiptr") long size, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, size, NULL, flags);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") ByteBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, data.remaining(), memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") ShortBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") IntBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glNamedBufferStorageEXT(@NativeType("GLuint") int buffer, @NativeType("void const *") FloatBuffer data, @NativeType("GLbitfield") int flags) {
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageEXT(buffer, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), flags);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glBufferStorageEXT BufferStorageEXT} */
@@ -113,7 +135,9 @@ public class EXTBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 1, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glBufferStorageEXT BufferStorageEXT} */
@@ -122,7 +146,9 @@ public class EXTBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glBufferStorageEXT BufferStorageEXT} */
@@ -131,7 +157,9 @@ public class EXTBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedBufferStorageEXT NamedBufferStorageEXT} */
@@ -140,7 +168,9 @@ public class EXTBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 1, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glNamedBufferStorageEXT NamedBufferStorageEXT} */
@@ -149,7 +179,9 @@ public class EXTBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glNamedBufferStorageEXT NamedBufferStorageEXT} */
@@ -158,7 +190,9 @@ public class EXTBufferStorage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffer, Integer.toUnsignedLong(data.length) << 2, data, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ public class EXTDebugLabel {
         GL_QUERY_OBJECT_EXT            = 0x9153,
         GL_PROGRAM_PIPELINE_OBJECT_EXT = 0x8A4F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDebugLabel.class, "glLabelObjectEXT,glGetObjectLabelEXT");
+
     static { GLES.initialize(); }
 
     protected EXTDebugLabel() {
@@ -54,7 +56,9 @@ public class EXTDebugLabel {
     public static native void nglLabelObjectEXT(int type, int object, int length, long label);
 
     public static void glLabelObjectEXT(@NativeType("GLenum") int type, @NativeType("GLuint") int object, @NativeType("GLchar const *") ByteBuffer label) {
+        long __start = FunctionProfiler.start();
         nglLabelObjectEXT(type, object, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glLabelObjectEXT(@NativeType("GLenum") int type, @NativeType("GLuint") int object, @NativeType("GLchar const *") CharSequence label) {
@@ -62,7 +66,9 @@ public class EXTDebugLabel {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglLabelObjectEXT(type, object, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -76,7 +82,9 @@ public class EXTDebugLabel {
         if (CHECKS) {
             check(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectLabelEXT(type, object, label.remaining(), memAddress(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -85,7 +93,9 @@ public class EXTDebugLabel {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectLabelEXT(type, object, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -99,7 +109,9 @@ public class EXTDebugLabel {
             check(__functionAddress);
             check(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(type, object, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
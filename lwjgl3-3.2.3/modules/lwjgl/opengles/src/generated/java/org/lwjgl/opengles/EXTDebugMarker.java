@@ -26,6 +26,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTDebugMarker {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDebugMarker.class, "glInsertEventMarkerEXT,glPushGroupMarkerEXT");
+
     static { GLES.initialize(); }
 
     protected EXTDebugMarker() {
@@ -43,7 +45,9 @@ public class EXTDebugMarker {
     public static native void nglInsertEventMarkerEXT(int length, long marker);
 
     public static void glInsertEventMarkerEXT(@NativeType("GLchar const *") ByteBuffer marker) {
+        long __start = FunctionProfiler.start();
         nglInsertEventMarkerEXT(marker.remaining(), memAddress(marker));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glInsertEventMarkerEXT(@NativeType("GLchar const *") CharSequence marker) {
@@ -51,7 +55,9 @@ public class EXTDebugMarker {
         try {
             int markerEncodedLength = stack.nUTF8(marker, false);
             long markerEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglInsertEventMarkerEXT(markerEncodedLength, markerEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -62,7 +68,9 @@ public class EXTDebugMarker {
     public static native void nglPushGroupMarkerEXT(int length, long marker);
 
     public static void glPushGroupMarkerEXT(@NativeType("GLchar const *") ByteBuffer marker) {
+        long __start = FunctionProfiler.start();
         nglPushGroupMarkerEXT(marker.remaining(), memAddress(marker));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glPushGroupMarkerEXT(@NativeType("GLchar const *") CharSequence marker) {
@@ -70,7 +78,9 @@ public class EXTDebugMarker {
         try {
             int markerEncodedLength = stack.nUTF8(marker, false);
             long markerEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglPushGroupMarkerEXT(markerEncodedLength, markerEncoded);
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -41,6 +41,8 @@ public class EXTDiscardFramebuffer {
         GL_DEPTH_EXT   = 0x1801,
         GL_STENCIL_EXT = 0x1802;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDiscardFramebuffer.class, "glDiscardFramebufferEXT");
+
     static { GLES.initialize(); }
 
     protected EXTDiscardFramebuffer() {
@@ -58,14 +60,18 @@ public class EXTDiscardFramebuffer {
     public static native void nglDiscardFramebufferEXT(int target, int numAttachments, long attachments);
 
     public static void glDiscardFramebufferEXT(@NativeType("GLenum") int target, @NativeType("GLenum const *") IntBuffer attachments) {
+        long __start = FunctionProfiler.start();
         nglDiscardFramebufferEXT(target, attachments.remaining(), memAddress(attachments));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDiscardFramebufferEXT(@NativeType("GLenum") int target, @NativeType("GLenum const *") int attachment) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglDiscardFramebufferEXT(target, 1, memAddress(attachments));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -77,7 +83,9 @@ public class EXTDiscardFramebuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachments.length, attachments, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
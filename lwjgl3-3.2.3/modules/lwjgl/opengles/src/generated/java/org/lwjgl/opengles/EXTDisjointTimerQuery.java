@@ -55,6 +55,8 @@ public class EXTDisjointTimerQuery {
     /** Accepted by the {@code value} parameter of GetBooleanv, GetIntegerv, GetInteger64v, GetFloatv, and GetDoublev. */
     public static final int GL_GPU_DISJOINT_EXT = 0x8FBB;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDisjointTimerQuery.class, "glGetQueryObjectivEXT,glGetQueryObjecti64vEXT,glGetQueryObjectui64vEXT");
+
     static { GLES.initialize(); }
 
     protected EXTDisjointTimerQuery() {
@@ -158,7 +160,9 @@ public class EXTDisjointTimerQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectivEXT(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -166,7 +170,9 @@ public class EXTDisjointTimerQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectivEXT(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -181,7 +187,9 @@ public class EXTDisjointTimerQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjecti64vEXT(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -189,7 +197,9 @@ public class EXTDisjointTimerQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjecti64vEXT(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -204,7 +214,9 @@ public class EXTDisjointTimerQuery {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectui64vEXT(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -212,7 +224,9 @@ public class EXTDisjointTimerQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectui64vEXT(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -246,7 +260,9 @@ public class EXTDisjointTimerQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetQueryObjecti64vEXT GetQueryObjecti64vEXT} */
@@ -256,7 +272,9 @@ public class EXTDisjointTimerQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetQueryObjectui64vEXT GetQueryObjectui64vEXT} */
@@ -266,7 +284,9 @@ public class EXTDisjointTimerQuery {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -72,6 +72,8 @@ public class EXTDrawBuffers {
         GL_COLOR_ATTACHMENT14_EXT = 0x8CEE,
         GL_COLOR_ATTACHMENT15_EXT = 0x8CEF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDrawBuffers.class, "glDrawBuffersEXT");
+
     static { GLES.initialize(); }
 
     protected EXTDrawBuffers() {
@@ -89,14 +91,18 @@ public class EXTDrawBuffers {
     public static native void nglDrawBuffersEXT(int n, long bufs);
 
     public static void glDrawBuffersEXT(@NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglDrawBuffersEXT(bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawBuffersEXT(@NativeType("GLenum const *") int buf) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer bufs = stack.ints(buf);
+            long __start = FunctionProfiler.start();
             nglDrawBuffersEXT(1, memAddress(bufs));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -108,7 +114,9 @@ public class EXTDrawBuffers {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
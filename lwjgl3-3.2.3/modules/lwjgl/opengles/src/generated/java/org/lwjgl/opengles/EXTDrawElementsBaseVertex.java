@@ -71,6 +71,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTDrawElementsBaseVertex {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDrawElementsBaseVertex.class, "glDrawElementsBaseVertexEXT,glDrawRangeElementsBaseVertexEXT,glDrawElementsInstancedBaseVertexEXT,glMultiDrawElementsBaseVertexEXT");
+
     static { GLES.initialize(); }
 
     protected EXTDrawElementsBaseVertex() {
@@ -90,23 +92,33 @@ public class EXTDrawElementsBaseVertex {
     public static native void nglDrawElementsBaseVertexEXT(int mode, int count, int type, long indices, int basevertex);
 
     public static void glDrawElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertexEXT(mode, count, type, indices, basevertex);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertexEXT(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertexEXT(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertexEXT(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertexEXT(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glDrawRangeElementsBaseVertexEXT ] ---
@@ -114,23 +126,33 @@ public class EXTDrawElementsBaseVertex {
     public static native void nglDrawRangeElementsBaseVertexEXT(int mode, int start, int end, int count, int type, long indices, int basevertex);
 
     public static void glDrawRangeElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertexEXT(mode, start, end, count, type, indices, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDrawRangeElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertexEXT(mode, start, end, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDrawRangeElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertexEXT(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDrawRangeElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ShortBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertexEXT(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDrawRangeElementsBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") IntBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertexEXT(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glDrawElementsInstancedBaseVertexEXT ] ---
@@ -138,23 +160,33 @@ public class EXTDrawElementsBaseVertex {
     public static native void nglDrawElementsInstancedBaseVertexEXT(int mode, int count, int type, long indices, int instancecount, int basevertex);
 
     public static void glDrawElementsInstancedBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexEXT(mode, count, type, indices, instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glDrawElementsInstancedBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexEXT(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glDrawElementsInstancedBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexEXT(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glDrawElementsInstancedBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexEXT(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glDrawElementsInstancedBaseVertexEXT(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertexEXT(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glMultiDrawElementsBaseVertexEXT ] ---
@@ -166,7 +198,9 @@ public class EXTDrawElementsBaseVertex {
             check(indices, count.remaining());
             check(basevertex, count.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsBaseVertexEXT(mode, memAddress(count), type, memAddress(indices), count.remaining(), memAddress(basevertex));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glMultiDrawElementsBaseVertexEXT MultiDrawElementsBaseVertexEXT} */
@@ -177,7 +211,9 @@ public class EXTDrawElementsBaseVertex {
             check(indices, count.length);
             check(basevertex, count.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(mode, count, type, memAddress(indices), count.length, basevertex, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -32,6 +32,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTEGLImageStorage {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTEGLImageStorage.class, "glEGLImageTargetTexStorageEXT,glEGLImageTargetTextureStorageEXT");
+
     static { GLES.initialize(); }
 
     protected EXTEGLImageStorage() {
@@ -53,7 +55,9 @@ public class EXTEGLImageStorage {
             check(image);
             checkNTSafe(attrib_list);
         }
+        long __start = FunctionProfiler.start();
         nglEGLImageTargetTexStorageEXT(target, image, memAddressSafe(attrib_list));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glEGLImageTargetTextureStorageEXT ] ---
@@ -65,7 +69,9 @@ public class EXTEGLImageStorage {
             check(image);
             checkNTSafe(attrib_list);
         }
+        long __start = FunctionProfiler.start();
         nglEGLImageTargetTextureStorageEXT(texture, image, memAddressSafe(attrib_list));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glEGLImageTargetTexStorageEXT EGLImageTargetTexStorageEXT} */
@@ -76,7 +82,9 @@ public class EXTEGLImageStorage {
             check(image);
             checkNTSafe(attrib_list);
         }
+        long __start = FunctionProfiler.start();
         callPPV(target, image, attrib_list, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glEGLImageTargetTextureStorageEXT EGLImageTargetTextureStorageEXT} */
@@ -87,7 +95,9 @@ public class EXTEGLImageStorage {
             check(image);
             checkNTSafe(attrib_list);
         }
+        long __start = FunctionProfiler.start();
         callPPV(texture, image, attrib_list, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
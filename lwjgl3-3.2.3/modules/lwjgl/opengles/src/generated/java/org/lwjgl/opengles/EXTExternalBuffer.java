@@ -38,6 +38,8 @@ import static org.lwjgl.system.Checks.*;
  */
 public class EXTExternalBuffer {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTExternalBuffer.class, "glBufferStorageExternalEXT,glNamedBufferStorageExternalEXT");
+
     static { GLES.initialize(); }
 
     protected EXTExternalBuffer() {
@@ -58,7 +60,9 @@ public class EXTExternalBuffer {
         if (CHECKS) {
             check(clientBuffer);
         }
+        long __start = FunctionProfiler.start();
         nglBufferStorageExternalEXT(target, offset, size, clientBuffer, flags);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glNamedBufferStorageExternalEXT ] ---
@@ -69,7 +73,9 @@ public class EXTExternalBuffer {
         if (CHECKS) {
             check(clientBuffer);
         }
+        long __start = FunctionProfiler.start();
         nglNamedBufferStorageExternalEXT(buffer, offset, size, clientBuffer, flags);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
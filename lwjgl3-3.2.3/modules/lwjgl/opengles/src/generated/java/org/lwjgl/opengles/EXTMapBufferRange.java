@@ -44,6 +44,8 @@ public class EXTMapBufferRange {
         GL_MAP_FLUSH_EXPLICIT_BIT_EXT    = 0x10,
         GL_MAP_UNSYNCHRONIZED_BIT_EXT    = 0x20;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMapBufferRange.class, "glMapBufferRangeEXT");
+
     static { GLES.initialize(); }
 
     protected EXTMapBufferRange() {
@@ -63,14 +65,16 @@ public class EXTMapBufferRange {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferRangeEXT(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access) {
-        long __result = nglMapBufferRangeEXT(target, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapBufferRangeEXT(target, offset, length, access));
         return memByteBufferSafe(__result, (int)length);
     }
 
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferRangeEXT(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferRangeEXT(target, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapBufferRangeEXT(target, offset, length, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -79,6 +79,8 @@ public class EXTMemoryObject {
     /** Constant values. */
     public static final int GL_UUID_SIZE_EXT = 16;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMemoryObject.class, "glGetUnsignedBytevEXT,glGetUnsignedBytei_vEXT,glDeleteMemoryObjectsEXT,glCreateMemoryObjectsEXT,glMemoryObjectParameterivEXT,glGetMemoryObjectParameterivEXT");
+
     static { GLES.initialize(); }
 
     protected EXTMemoryObject() {
@@ -100,7 +102,9 @@ public class EXTMemoryObject {
     public static native void nglGetUnsignedBytevEXT(int pname, long data);
 
     public static void glGetUnsignedBytevEXT(@NativeType("GLenum") int pname, @NativeType("GLubyte *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetUnsignedBytevEXT(pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetUnsignedBytei_vEXT ] ---
@@ -108,7 +112,9 @@ public class EXTMemoryObject {
     public static native void nglGetUnsignedBytei_vEXT(int target, int index, long data);
 
     public static void glGetUnsignedBytei_vEXT(@NativeType("GLenum") int target, @NativeType("GLuint") int index, @NativeType("GLubyte *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglGetUnsignedBytei_vEXT(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glDeleteMemoryObjectsEXT ] ---
@@ -116,14 +122,18 @@ public class EXTMemoryObject {
     public static native void nglDeleteMemoryObjectsEXT(int n, long memoryObjects);
 
     public static void glDeleteMemoryObjectsEXT(@NativeType("GLuint const *") IntBuffer memoryObjects) {
+        long __start = FunctionProfiler.start();
         nglDeleteMemoryObjectsEXT(memoryObjects.remaining(), memAddress(memoryObjects));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void glDeleteMemoryObjectsEXT(@NativeType("GLuint const *") int memoryObject) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer memoryObjects = stack.ints(memoryObject);
+            long __start = FunctionProfiler.start();
             nglDeleteMemoryObjectsEXT(1, memAddress(memoryObjects));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -139,7 +149,9 @@ public class EXTMemoryObject {
     public static native void nglCreateMemoryObjectsEXT(int n, long memoryObjects);
 
     public static void glCreateMemoryObjectsEXT(@NativeType("GLuint *") IntBuffer memoryObjects) {
+        long __start = FunctionProfiler.start();
         nglCreateMemoryObjectsEXT(memoryObjects.remaining(), memAddress(memoryObjects));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -147,7 +159,9 @@ public class EXTMemoryObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer memoryObjects = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreateMemoryObjectsEXT(1, memAddress(memoryObjects));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return memoryObjects.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -162,14 +176,18 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glMemoryObjectParameteriEXT(@NativeType("GLuint") int memoryObject, @NativeType("GLenum") int pname, @NativeType("GLint const *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -183,7 +201,9 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -191,7 +211,9 @@ public class EXTMemoryObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetMemoryObjectParameterivEXT(memoryObject, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -244,7 +266,9 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObjects.length, memoryObjects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glCreateMemoryObjectsEXT CreateMemoryObjectsEXT} */
@@ -253,7 +277,9 @@ public class EXTMemoryObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObjects.length, memoryObjects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glMemoryObjectParameterivEXT MemoryObjectParameterivEXT} */
@@ -263,7 +289,9 @@ public class EXTMemoryObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObject, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetMemoryObjectParameterivEXT GetMemoryObjectParameterivEXT} */
@@ -273,7 +301,9 @@ public class EXTMemoryObject {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(memoryObject, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -46,6 +46,8 @@ public class EXTMemoryObjectWin32 {
     /** Accepted by the {@code handleType} parameter of {@link #glImportMemoryWin32HandleEXT ImportMemoryWin32HandleEXT}. */
     public static final int GL_HANDLE_TYPE_D3D11_IMAGE_KMT_EXT = 0x958C;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMemoryObjectWin32.class, "glImportMemoryWin32HandleEXT,glImportMemoryWin32NameEXT");
+
     static { GLES.initialize(); }
 
     protected EXTMemoryObjectWin32() {
@@ -66,7 +68,9 @@ public class EXTMemoryObjectWin32 {
         if (CHECKS) {
             check(handle);
         }
+        long __start = FunctionProfiler.start();
         nglImportMemoryWin32HandleEXT(memory, size, handleType, handle);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glImportMemoryWin32NameEXT ] ---
@@ -77,7 +81,9 @@ public class EXTMemoryObjectWin32 {
         if (CHECKS) {
             check(name);
         }
+        long __start = FunctionProfiler.start();
         nglImportMemoryWin32NameEXT(memory, size, handleType, name);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTMultiDrawArrays {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMultiDrawArrays.class, "glMultiDrawArraysEXT,glMultiDrawElementsEXT");
+
     static { GLES.initialize(); }
 
     protected EXTMultiDrawArrays() {
@@ -43,7 +45,9 @@ public class EXTMultiDrawArrays {
         if (CHECKS) {
             check(count, first.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysEXT(mode, memAddress(first), memAddress(count), first.remaining());
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElementsEXT ] ---
@@ -54,7 +58,9 @@ public class EXTMultiDrawArrays {
         if (CHECKS) {
             check(indices, count.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsEXT(mode, memAddress(count), type, memAddress(indices), count.remaining());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMultiDrawArraysEXT MultiDrawArraysEXT} */
@@ -64,7 +70,9 @@ public class EXTMultiDrawArrays {
             check(__functionAddress);
             check(count, first.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, first, count, first.length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMultiDrawElementsEXT MultiDrawElementsEXT} */
@@ -74,7 +82,9 @@ public class EXTMultiDrawArrays {
             check(__functionAddress);
             check(indices, count.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(mode, count, type, memAddress(indices), count.length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class EXTMultiDrawIndirect {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMultiDrawIndirect.class, "glMultiDrawArraysIndirectEXT,glMultiDrawElementsIndirectEXT");
+
     static { GLES.initialize(); }
 
     protected EXTMultiDrawIndirect() {
@@ -47,18 +49,24 @@ public class EXTMultiDrawIndirect {
         if (CHECKS) {
             check(indirect, drawcount * (stride == 0 ? (4 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectEXT(mode, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glMultiDrawArraysIndirectEXT(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect, @NativeType("GLsizei") int drawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectEXT(mode, indirect, drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glMultiDrawArraysIndirectEXT(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indirect, @NativeType("GLsizei") int drawcount, @NativeType("GLsizei") int stride) {
         if (CHECKS) {
             check(indirect, (drawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawArraysIndirectEXT(mode, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glMultiDrawElementsIndirectEXT ] ---
@@ -69,18 +77,24 @@ public class EXTMultiDrawIndirect {
         if (CHECKS) {
             check(indirect, drawcount * (stride == 0 ? (5 * 4) : stride));
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectEXT(mode, type, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glMultiDrawElementsIndirectEXT(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect, @NativeType("GLsizei") int drawcount, @NativeType("GLsizei") int stride) {
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectEXT(mode, type, indirect, drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glMultiDrawElementsIndirectEXT(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer indirect, @NativeType("GLsizei") int drawcount, @NativeType("GLsizei") int stride) {
         if (CHECKS) {
             check(indirect, (drawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglMultiDrawElementsIndirectEXT(mode, type, memAddress(indirect), drawcount, stride);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glMultiDrawArraysIndirectEXT MultiDrawArraysIndirectEXT} */
@@ -90,7 +104,9 @@ public class EXTMultiDrawIndirect {
             check(__functionAddress);
             check(indirect, (drawcount * (stride == 0 ? (4 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, indirect, drawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glMultiDrawElementsIndirectEXT MultiDrawElementsIndirectEXT} */
@@ -100,7 +116,9 @@ public class EXTMultiDrawIndirect {
             check(__functionAddress);
             check(indirect, (drawcount * (stride == 0 ? (5 * 4) : stride)) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, type, indirect, drawcount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -49,6 +49,8 @@ public class EXTMultiviewDrawBuffers {
     /** Accepted by the {@code target} parameter of GetInteger. */
     public static final int GL_MAX_MULTIVIEW_BUFFERS_EXT = 0x90F2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTMultiviewDrawBuffers.class, "glDrawBuffersIndexedEXT,glGetIntegeri_vEXT");
+
     static { GLES.initialize(); }
 
     protected EXTMultiviewDrawBuffers() {
@@ -73,7 +75,9 @@ public class EXTMultiviewDrawBuffers {
         if (CHECKS) {
             check(indices, location.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglDrawBuffersIndexedEXT(location.remaining(), memAddress(location), memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetIntegeri_vEXT ] ---
@@ -84,7 +88,9 @@ public class EXTMultiviewDrawBuffers {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegeri_vEXT(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -92,7 +98,9 @@ public class EXTMultiviewDrawBuffers {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegeri_vEXT(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -106,7 +114,9 @@ public class EXTMultiviewDrawBuffers {
             check(__functionAddress);
             check(indices, location.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(location.length, location, indices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetIntegeri_vEXT GetIntegeri_vEXT} */
@@ -116,7 +126,9 @@ public class EXTMultiviewDrawBuffers {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -39,6 +39,8 @@ public class EXTOcclusionQueryBoolean {
         GL_QUERY_RESULT_EXT           = 0x8866,
         GL_QUERY_RESULT_AVAILABLE_EXT = 0x8867;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTOcclusionQueryBoolean.class, "glGenQueriesEXT,glDeleteQueriesEXT,glGetQueryivEXT,glGetQueryObjectuivEXT");
+
     static { GLES.initialize(); }
 
     protected EXTOcclusionQueryBoolean() {
@@ -57,7 +59,9 @@ public class EXTOcclusionQueryBoolean {
     public static native void nglGenQueriesEXT(int n, long ids);
 
     public static void glGenQueriesEXT(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglGenQueriesEXT(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -65,7 +69,9 @@ public class EXTOcclusionQueryBoolean {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenQueriesEXT(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -77,14 +83,18 @@ public class EXTOcclusionQueryBoolean {
     public static native void nglDeleteQueriesEXT(int n, long ids);
 
     public static void glDeleteQueriesEXT(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteQueriesEXT(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDeleteQueriesEXT(@NativeType("GLuint const *") int id) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteQueriesEXT(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -111,7 +121,9 @@ public class EXTOcclusionQueryBoolean {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -119,7 +131,9 @@ public class EXTOcclusionQueryBoolean {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -134,7 +148,9 @@ public class EXTOcclusionQueryBoolean {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectuivEXT(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -142,7 +158,9 @@ public class EXTOcclusionQueryBoolean {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectuivEXT(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -155,7 +173,9 @@ public class EXTOcclusionQueryBoolean {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glDeleteQueriesEXT DeleteQueriesEXT} */
@@ -164,7 +184,9 @@ public class EXTOcclusionQueryBoolean {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetQueryivEXT GetQueryivEXT} */
@@ -174,7 +196,9 @@ public class EXTOcclusionQueryBoolean {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetQueryObjectuivEXT GetQueryObjectuivEXT} */
@@ -184,7 +208,9 @@ public class EXTOcclusionQueryBoolean {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -67,6 +67,8 @@ public class EXTRobustness {
         GL_LOSE_CONTEXT_ON_RESET_EXT = 0x8252,
         GL_NO_RESET_NOTIFICATION_EXT = 0x8261;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTRobustness.class, "glReadnPixelsEXT,glGetnUniformfvEXT,glGetnUniformivEXT");
+
     static { GLES.initialize(); }
 
     protected EXTRobustness() {
@@ -89,23 +91,33 @@ public class EXTRobustness {
     public static native void nglReadnPixelsEXT(int x, int y, int width, int height, int format, int type, int bufSize, long data);
 
     public static void glReadnPixelsEXT(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsEXT(x, y, width, height, format, type, bufSize, data);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glReadnPixelsEXT(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsEXT(x, y, width, height, format, type, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glReadnPixelsEXT(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsEXT(x, y, width, height, format, type, data.remaining() << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glReadnPixelsEXT(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsEXT(x, y, width, height, format, type, data.remaining() << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glReadnPixelsEXT(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsEXT(x, y, width, height, format, type, data.remaining() << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetnUniformfvEXT ] ---
@@ -113,7 +125,9 @@ public class EXTRobustness {
     public static native void nglGetnUniformfvEXT(int program, int location, int bufSize, long params);
 
     public static void glGetnUniformfvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformfvEXT(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -121,7 +135,9 @@ public class EXTRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformfvEXT(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -133,7 +149,9 @@ public class EXTRobustness {
     public static native void nglGetnUniformivEXT(int program, int location, int bufSize, long params);
 
     public static void glGetnUniformivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformivEXT(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -141,7 +159,9 @@ public class EXTRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformivEXT(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -154,7 +174,9 @@ public class EXTRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, data.length << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsEXT ReadnPixelsEXT} */
@@ -163,7 +185,9 @@ public class EXTRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, data.length << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsEXT ReadnPixelsEXT} */
@@ -172,7 +196,9 @@ public class EXTRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, data.length << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetnUniformfvEXT GetnUniformfvEXT} */
@@ -181,7 +207,9 @@ public class EXTRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetnUniformivEXT GetnUniformivEXT} */
@@ -190,7 +218,9 @@ public class EXTRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
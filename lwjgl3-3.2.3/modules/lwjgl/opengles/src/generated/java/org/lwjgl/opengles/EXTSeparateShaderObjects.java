@@ -73,6 +73,8 @@ public class EXTSeparateShaderObjects {
     /** Accepted by the {@code pname} parameter of GetBooleanv, GetIntegerv, and GetFloatv. */
     public static final int GL_PROGRAM_PIPELINE_BINDING_EXT = 0x825A;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSeparateShaderObjects.class, "glCreateShaderProgramvEXT,glDeleteProgramPipelinesEXT,glGenProgramPipelinesEXT,glGetProgramPipelineInfoLogEXT,glGetProgramPipelineivEXT,glProgramUniform1fvEXT,glProgramUniform1ivEXT,glProgramUniform2fvEXT,glProgramUniform2ivEXT,glProgramUniform3fvEXT,glProgramUniform3ivEXT,glProgramUniform4fvEXT,glProgramUniform4ivEXT,glProgramUniformMatrix2fvEXT,glProgramUniformMatrix3fvEXT,glProgramUniformMatrix4fvEXT,glProgramUniform1uivEXT,glProgramUniform2uivEXT,glProgramUniform3uivEXT,glProgramUniform4uivEXT,glProgramUniformMatrix2x3fvEXT,glProgramUniformMatrix3x2fvEXT,glProgramUniformMatrix2x4fvEXT,glProgramUniformMatrix4x2fvEXT,glProgramUniformMatrix3x4fvEXT,glProgramUniformMatrix4x3fvEXT");
+
     static { GLES.initialize(); }
 
     protected EXTSeparateShaderObjects() {
@@ -108,7 +110,8 @@ public class EXTSeparateShaderObjects {
 
     @NativeType("GLuint")
     public static int glCreateShaderProgramvEXT(@NativeType("GLenum") int type, @NativeType("GLchar const **") PointerBuffer strings) {
-        return nglCreateShaderProgramvEXT(type, strings.remaining(), memAddress(strings));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nglCreateShaderProgramvEXT(type, strings.remaining(), memAddress(strings)));
     }
 
     @NativeType("GLuint")
@@ -116,7 +119,8 @@ public class EXTSeparateShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memUTF8, strings);
-            int __result = nglCreateShaderProgramvEXT(type, strings.length, stringsAddress);
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID, __start, nglCreateShaderProgramvEXT(type, strings.length, stringsAddress));
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, strings.length);
             return __result;
         } finally {
@@ -129,7 +133,8 @@ public class EXTSeparateShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memUTF8, string);
-            int __result = nglCreateShaderProgramvEXT(type, 1, stringsAddress);
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID, __start, nglCreateShaderProgramvEXT(type, 1, stringsAddress));
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, 1);
             return __result;
         } finally {
@@ -142,14 +147,18 @@ public class EXTSeparateShaderObjects {
     public static native void nglDeleteProgramPipelinesEXT(int n, long pipelines);
 
     public static void glDeleteProgramPipelinesEXT(@NativeType("GLuint const *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglDeleteProgramPipelinesEXT(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glDeleteProgramPipelinesEXT(@NativeType("GLuint const *") int pipeline) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.ints(pipeline);
+            long __start = FunctionProfiler.start();
             nglDeleteProgramPipelinesEXT(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -160,7 +169,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglGenProgramPipelinesEXT(int n, long pipelines);
 
     public static void glGenProgramPipelinesEXT(@NativeType("GLuint *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglGenProgramPipelinesEXT(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -168,7 +179,9 @@ public class EXTSeparateShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenProgramPipelinesEXT(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return pipelines.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -183,7 +196,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramPipelineInfoLogEXT(pipeline, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -192,7 +207,9 @@ public class EXTSeparateShaderObjects {
         ByteBuffer infoLog = memAlloc(bufSize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetProgramPipelineInfoLogEXT(pipeline, bufSize, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -213,7 +230,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramPipelineivEXT(pipeline, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -221,7 +240,9 @@ public class EXTSeparateShaderObjects {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramPipelineivEXT(pipeline, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -246,7 +267,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform1fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform1fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1fvEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glProgramUniform1iEXT ] ---
@@ -258,7 +281,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform1ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform1ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1ivEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glProgramUniform2fEXT ] ---
@@ -270,7 +295,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform2fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2fvEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ glProgramUniform2iEXT ] ---
@@ -282,7 +309,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform2ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform2ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2ivEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ glProgramUniform3fEXT ] ---
@@ -294,7 +323,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform3fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3fvEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glProgramUniform3iEXT ] ---
@@ -306,7 +337,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform3ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform3ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3ivEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glProgramUniform4fEXT ] ---
@@ -318,7 +351,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform4fvEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4fvEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glProgramUniform4iEXT ] ---
@@ -330,7 +365,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform4ivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform4ivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4ivEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glProgramUniformMatrix2fvEXT ] ---
@@ -338,7 +375,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix2fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2fvEXT(program, location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glProgramUniformMatrix3fvEXT ] ---
@@ -346,7 +385,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix3fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3fvEXT(program, location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glProgramUniformMatrix4fvEXT ] ---
@@ -354,7 +395,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix4fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4fvEXT(program, location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glUseProgramStagesEXT ] ---
@@ -386,7 +429,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform1uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform1uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1uivEXT(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glProgramUniform2uivEXT ] ---
@@ -394,7 +439,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform2uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform2uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2uivEXT(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glProgramUniform3uivEXT ] ---
@@ -402,7 +449,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform3uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform3uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3uivEXT(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glProgramUniform4uivEXT ] ---
@@ -410,7 +459,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniform4uivEXT(int program, int location, int count, long value);
 
     public static void glProgramUniform4uivEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4uivEXT(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glProgramUniformMatrix2x3fvEXT ] ---
@@ -418,7 +469,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix2x3fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix2x3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x3fvEXT(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glProgramUniformMatrix3x2fvEXT ] ---
@@ -426,7 +479,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix3x2fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix3x2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x2fvEXT(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glProgramUniformMatrix2x4fvEXT ] ---
@@ -434,7 +489,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix2x4fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix2x4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x4fvEXT(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glProgramUniformMatrix4x2fvEXT ] ---
@@ -442,7 +499,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix4x2fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix4x2fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x2fvEXT(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glProgramUniformMatrix3x4fvEXT ] ---
@@ -450,7 +509,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix3x4fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix3x4fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x4fvEXT(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glProgramUniformMatrix4x3fvEXT ] ---
@@ -458,7 +519,9 @@ public class EXTSeparateShaderObjects {
     public static native void nglProgramUniformMatrix4x3fvEXT(int program, int location, int count, boolean transpose, long value);
 
     public static void glProgramUniformMatrix4x3fvEXT(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x3fvEXT(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #glDeleteProgramPipelinesEXT DeleteProgramPipelinesEXT} */
@@ -467,7 +530,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGenProgramPipelinesEXT GenProgramPipelinesEXT} */
@@ -476,7 +541,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetProgramPipelineInfoLogEXT GetProgramPipelineInfoLogEXT} */
@@ -486,7 +553,9 @@ public class EXTSeparateShaderObjects {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pipeline, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetProgramPipelineivEXT GetProgramPipelineivEXT} */
@@ -496,7 +565,9 @@ public class EXTSeparateShaderObjects {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipeline, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1fvEXT ProgramUniform1fvEXT} */
@@ -505,7 +576,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1ivEXT ProgramUniform1ivEXT} */
@@ -514,7 +587,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2fvEXT ProgramUniform2fvEXT} */
@@ -523,7 +598,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2ivEXT ProgramUniform2ivEXT} */
@@ -532,7 +609,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3fvEXT ProgramUniform3fvEXT} */
@@ -541,7 +620,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3ivEXT ProgramUniform3ivEXT} */
@@ -550,7 +631,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4fvEXT ProgramUniform4fvEXT} */
@@ -559,7 +642,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4ivEXT ProgramUniform4ivEXT} */
@@ -568,7 +653,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2fvEXT ProgramUniformMatrix2fvEXT} */
@@ -577,7 +664,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3fvEXT ProgramUniformMatrix3fvEXT} */
@@ -586,7 +675,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4fvEXT ProgramUniformMatrix4fvEXT} */
@@ -595,7 +686,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glProgramUniform1uivEXT ProgramUniform1uivEXT} */
@@ -604,7 +697,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glProgramUniform2uivEXT ProgramUniform2uivEXT} */
@@ -613,7 +708,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glProgramUniform3uivEXT ProgramUniform3uivEXT} */
@@ -622,7 +719,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glProgramUniform4uivEXT ProgramUniform4uivEXT} */
@@ -631,7 +730,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2x3fvEXT ProgramUniformMatrix2x3fvEXT} */
@@ -640,7 +741,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3x2fvEXT ProgramUniformMatrix3x2fvEXT} */
@@ -649,7 +752,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix2x4fvEXT ProgramUniformMatrix2x4fvEXT} */
@@ -658,7 +763,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4x2fvEXT ProgramUniformMatrix4x2fvEXT} */
@@ -667,7 +774,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix3x4fvEXT ProgramUniformMatrix3x4fvEXT} */
@@ -676,7 +785,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** Array version of: {@link #glProgramUniformMatrix4x3fvEXT ProgramUniformMatrix4x3fvEXT} */
@@ -685,7 +796,9 @@ public class EXTSeparateShaderObjects {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
 }
\ No newline at end of file
@@ -40,6 +40,8 @@ public class EXTShaderPixelLocalStorage2 {
     /** Returned by CheckFramebufferStatus. */
     public static final int GL_FRAMEBUFFER_INCOMPLETE_INSUFFICIENT_SHADER_COMBINED_LOCAL_STORAGE_EXT = 0x9652;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTShaderPixelLocalStorage2.class, "glClearPixelLocalStorageuiEXT");
+
     static { GLES.initialize(); }
 
     protected EXTShaderPixelLocalStorage2() {
@@ -66,7 +68,9 @@ public class EXTShaderPixelLocalStorage2 {
     public static native void nglClearPixelLocalStorageuiEXT(int offset, int n, long values);
 
     public static void glClearPixelLocalStorageuiEXT(@NativeType("GLsizei") int offset, @NativeType("GLuint const *") IntBuffer values) {
+        long __start = FunctionProfiler.start();
         nglClearPixelLocalStorageuiEXT(offset, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glClearPixelLocalStorageuiEXT ClearPixelLocalStorageuiEXT} */
@@ -75,7 +79,9 @@ public class EXTShaderPixelLocalStorage2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(offset, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -45,6 +45,8 @@ public class EXTTextureBorderClamp {
      */
     public static final int GL_CLAMP_TO_BORDER_EXT = 0x812D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTTextureBorderClamp.class, "glTexParameterIivEXT,glTexParameterIuivEXT,glGetTexParameterIivEXT,glGetTexParameterIuivEXT,glSamplerParameterIivEXT,glSamplerParameterIuivEXT,glGetSamplerParameterIivEXT,glGetSamplerParameterIuivEXT");
+
     static { GLES.initialize(); }
 
     protected EXTTextureBorderClamp() {
@@ -66,7 +68,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glTexParameterIuivEXT ] ---
@@ -77,7 +81,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIuivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glGetTexParameterIivEXT ] ---
@@ -88,7 +94,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -96,7 +104,9 @@ public class EXTTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -111,7 +121,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIuivEXT(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -119,7 +131,9 @@ public class EXTTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIuivEXT(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -134,7 +148,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIivEXT(sampler, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glSamplerParameterIuivEXT ] ---
@@ -145,7 +161,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIuivEXT(sampler, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glGetSamplerParameterIivEXT ] ---
@@ -156,7 +174,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIivEXT(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     @NativeType("void")
@@ -164,7 +184,9 @@ public class EXTTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIivEXT(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -179,7 +201,9 @@ public class EXTTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIuivEXT(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     @NativeType("void")
@@ -187,7 +211,9 @@ public class EXTTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIuivEXT(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -201,7 +227,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glTexParameterIuivEXT TexParameterIuivEXT} */
@@ -211,7 +239,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetTexParameterIivEXT GetTexParameterIivEXT} */
@@ -221,7 +251,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetTexParameterIuivEXT GetTexParameterIuivEXT} */
@@ -231,7 +263,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glSamplerParameterIivEXT SamplerParameterIivEXT} */
@@ -241,7 +275,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glSamplerParameterIuivEXT SamplerParameterIuivEXT} */
@@ -251,7 +287,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetSamplerParameterIivEXT GetSamplerParameterIivEXT} */
@@ -261,7 +299,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glGetSamplerParameterIuivEXT GetSamplerParameterIuivEXT} */
@@ -271,7 +311,9 @@ public class EXTTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
 }
\ No newline at end of file
@@ -54,6 +54,8 @@ public class EXTWindowRectangles {
         GL_MAX_WINDOW_RECTANGLES_EXT = 0x8F14,
         GL_NUM_WINDOW_RECTANGLES_EXT = 0x8F15;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTWindowRectangles.class, "glWindowRectanglesEXT");
+
     static { GLES.initialize(); }
 
     protected EXTWindowRectangles() {
@@ -107,7 +109,9 @@ public class EXTWindowRectangles {
      * @param box  an array of {@code 4*count} window rectangle coordinates
      */
     public static void glWindowRectanglesEXT(@NativeType("GLenum") int mode, @Nullable @NativeType("GLint const *") IntBuffer box) {
+        long __start = FunctionProfiler.start();
         nglWindowRectanglesEXT(mode, remainingSafe(box) >> 2, memAddressSafe(box));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glWindowRectanglesEXT WindowRectanglesEXT} */
@@ -116,7 +120,9 @@ public class EXTWindowRectangles {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, lengthSafe(box) >> 2, box, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
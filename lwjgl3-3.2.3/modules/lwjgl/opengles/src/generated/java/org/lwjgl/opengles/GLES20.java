@@ -324,6 +324,8 @@ public class GLES20 {
         GL_MAX_RENDERBUFFER_SIZE                        = 0x84E8,
         GL_INVALID_FRAMEBUFFER_OPERATION                = 0x506;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLES20.class, "glBindAttribLocation,glBufferData,glBufferSubData,glCompressedTexImage2D,glCompressedTexSubImage2D,glDeleteBuffers,glDeleteFramebuffers,glDeleteRenderbuffers,glDeleteTextures,glDrawElements,glGenBuffers,glGenFramebuffers,glGenRenderbuffers,glGenTextures,glGetActiveAttrib,glGetActiveUniform,glGetAttachedShaders,glGetAttribLocation,glGetBooleanv,glGetBufferParameteriv,glGetFloatv,glGetFramebufferAttachmentParameteriv,glGetIntegerv,glGetProgramiv,glGetProgramInfoLog,glGetRenderbufferParameteriv,glGetShaderiv,glGetShaderInfoLog,glGetShaderPrecisionFormat,glGetShaderSource,glGetString,glGetTexParameterfv,glGetTexParameteriv,glGetUniformfv,glGetUniformiv,glGetUniformLocation,glGetVertexAttribfv,glGetVertexAttribiv,glGetVertexAttribPointerv,glReadPixels,glShaderBinary,glShaderSource,glTexImage2D,glTexParameterfv,glTexParameteriv,glTexSubImage2D,glUniform1fv,glUniform1iv,glUniform2fv,glUniform2iv,glUniform3fv,glUniform3iv,glUniform4fv,glUniform4iv,glUniformMatrix2fv,glUniformMatrix3fv,glUniformMatrix4fv,glVertexAttrib1fv,glVertexAttrib2fv,glVertexAttrib3fv,glVertexAttrib4fv,glVertexAttribPointer");
+
     static { GLES.initialize(); }
 
     protected GLES20() {
@@ -377,7 +379,9 @@ public class GLES20 {
         if (CHECKS) {
             checkNT1(name);
         }
+        long __start = FunctionProfiler.start();
         nglBindAttribLocation(program, index, memAddress(name));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBindAttribLocation">Reference Page</a> */
@@ -386,7 +390,9 @@ public class GLES20 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglBindAttribLocation(program, index, nameEncoded);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -443,27 +449,37 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferData">Reference Page</a> */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, size, NULL, usage);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferData">Reference Page</a> */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, data.remaining(), memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferData">Reference Page</a> */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") ShortBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferData">Reference Page</a> */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") IntBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferData">Reference Page</a> */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") FloatBuffer data, @NativeType("GLenum") int usage) {
+        long __start = FunctionProfiler.start();
         nglBufferData(target, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data), usage);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glBufferSubData ] ---
@@ -472,22 +488,30 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferSubData">Reference Page</a> */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferSubData">Reference Page</a> */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") ShortBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 1, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferSubData">Reference Page</a> */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") IntBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glBufferSubData">Reference Page</a> */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") FloatBuffer data) {
+        long __start = FunctionProfiler.start();
         nglBufferSubData(target, offset, Integer.toUnsignedLong(data.remaining()) << 2, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glCheckFramebufferStatus ] ---
@@ -532,12 +556,16 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexImage2D">Reference Page</a> */
     public static void glCompressedTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexImage2D">Reference Page</a> */
     public static void glCompressedTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage2D(target, level, internalformat, width, height, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glCompressedTexSubImage2D ] ---
@@ -546,12 +574,16 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexSubImage2D">Reference Page</a> */
     public static void glCompressedTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexSubImage2D">Reference Page</a> */
     public static void glCompressedTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glCopyTexImage2D ] ---
@@ -587,7 +619,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteBuffers">Reference Page</a> */
     public static void glDeleteBuffers(@NativeType("GLuint const *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteBuffers(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteBuffers">Reference Page</a> */
@@ -595,7 +629,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.ints(buffer);
+            long __start = FunctionProfiler.start();
             nglDeleteBuffers(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -607,7 +643,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteFramebuffers">Reference Page</a> */
     public static void glDeleteFramebuffers(@NativeType("GLuint const *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteFramebuffers(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteFramebuffers">Reference Page</a> */
@@ -615,7 +653,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.ints(framebuffer);
+            long __start = FunctionProfiler.start();
             nglDeleteFramebuffers(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -632,7 +672,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteRenderbuffers">Reference Page</a> */
     public static void glDeleteRenderbuffers(@NativeType("GLuint const *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglDeleteRenderbuffers(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteRenderbuffers">Reference Page</a> */
@@ -640,7 +682,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.ints(renderbuffer);
+            long __start = FunctionProfiler.start();
             nglDeleteRenderbuffers(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -657,7 +701,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteTextures">Reference Page</a> */
     public static void glDeleteTextures(@NativeType("GLuint const *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglDeleteTextures(textures.remaining(), memAddress(textures));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteTextures">Reference Page</a> */
@@ -665,7 +711,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer textures = stack.ints(texture);
+            long __start = FunctionProfiler.start();
             nglDeleteTextures(1, memAddress(textures));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -712,27 +760,37 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElements">Reference Page</a> */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, count, type, indices);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElements">Reference Page</a> */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElements">Reference Page</a> */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElements">Reference Page</a> */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElements">Reference Page</a> */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawElements(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glEnable ] ---
@@ -776,7 +834,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenBuffers">Reference Page</a> */
     public static void glGenBuffers(@NativeType("GLuint *") IntBuffer buffers) {
+        long __start = FunctionProfiler.start();
         nglGenBuffers(buffers.remaining(), memAddress(buffers));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenBuffers">Reference Page</a> */
@@ -785,7 +845,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer buffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenBuffers(1, memAddress(buffers));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return buffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -803,7 +865,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenFramebuffers">Reference Page</a> */
     public static void glGenFramebuffers(@NativeType("GLuint *") IntBuffer framebuffers) {
+        long __start = FunctionProfiler.start();
         nglGenFramebuffers(framebuffers.remaining(), memAddress(framebuffers));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenFramebuffers">Reference Page</a> */
@@ -812,7 +876,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer framebuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenFramebuffers(1, memAddress(framebuffers));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return framebuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -825,7 +891,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenRenderbuffers">Reference Page</a> */
     public static void glGenRenderbuffers(@NativeType("GLuint *") IntBuffer renderbuffers) {
+        long __start = FunctionProfiler.start();
         nglGenRenderbuffers(renderbuffers.remaining(), memAddress(renderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenRenderbuffers">Reference Page</a> */
@@ -834,7 +902,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer renderbuffers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenRenderbuffers(1, memAddress(renderbuffers));
+            FunctionProfiler.end(PROFILE_ID + 12, __start);
             return renderbuffers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -847,7 +917,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenTextures">Reference Page</a> */
     public static void glGenTextures(@NativeType("GLuint *") IntBuffer textures) {
+        long __start = FunctionProfiler.start();
         nglGenTextures(textures.remaining(), memAddress(textures));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenTextures">Reference Page</a> */
@@ -856,7 +928,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer textures = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenTextures(1, memAddress(textures));
+            FunctionProfiler.end(PROFILE_ID + 13, __start);
             return textures.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -874,7 +948,9 @@ public class GLES20 {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveAttrib(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetActiveAttrib">Reference Page</a> */
@@ -888,7 +964,9 @@ public class GLES20 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetActiveAttrib(program, index, bufSize, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -912,7 +990,9 @@ public class GLES20 {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniform(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetActiveUniform">Reference Page</a> */
@@ -926,7 +1006,9 @@ public class GLES20 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniform(program, index, bufSize, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -948,7 +1030,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(count, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetAttachedShaders(program, shaders.remaining(), memAddressSafe(count), memAddress(shaders));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glGetAttribLocation ] ---
@@ -961,7 +1045,8 @@ public class GLES20 {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetAttribLocation(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetAttribLocation(program, memAddress(name)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetAttribLocation">Reference Page</a> */
@@ -971,7 +1056,8 @@ public class GLES20 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetAttribLocation(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 17, __start, nglGetAttribLocation(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -986,7 +1072,9 @@ public class GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBooleanv(pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetBooleanv">Reference Page</a> */
@@ -995,7 +1083,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             ByteBuffer data = stack.calloc(1);
+            long __start = FunctionProfiler.start();
             nglGetBooleanv(pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
             return data.get(0) != 0;
         } finally {
             stack.setPointer(stackPointer);
@@ -1011,7 +1101,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetBufferParameter">Reference Page</a> */
@@ -1020,7 +1112,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1042,7 +1136,9 @@ public class GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloatv(pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetFloatv">Reference Page</a> */
@@ -1051,7 +1147,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloatv(pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1067,7 +1165,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFramebufferAttachmentParameteriv(target, attachment, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetFramebufferAttachmentParameter">Reference Page</a> */
@@ -1076,7 +1176,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFramebufferAttachmentParameteriv(target, attachment, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1092,7 +1194,9 @@ public class GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegerv(pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetIntegerv">Reference Page</a> */
@@ -1101,7 +1205,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegerv(pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 22, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1117,7 +1223,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramiv(program, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgram">Reference Page</a> */
@@ -1126,7 +1234,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramiv(program, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1142,7 +1252,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramInfoLog(program, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramInfoLog">Reference Page</a> */
@@ -1152,7 +1264,9 @@ public class GLES20 {
         ByteBuffer infoLog = memAlloc(bufSize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetProgramInfoLog(program, bufSize, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -1175,7 +1289,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetRenderbufferParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetRenderbufferParameter">Reference Page</a> */
@@ -1184,7 +1300,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetRenderbufferParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1200,7 +1318,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderiv(shader, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetShader">Reference Page</a> */
@@ -1209,7 +1329,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetShaderiv(shader, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 26, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1225,7 +1347,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderInfoLog(shader, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetShaderInfoLog">Reference Page</a> */
@@ -1235,7 +1359,9 @@ public class GLES20 {
         ByteBuffer infoLog = memAlloc(bufSize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetShaderInfoLog(shader, bufSize, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 27, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -1259,7 +1385,9 @@ public class GLES20 {
             check(range, 2);
             check(precision, 2);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderPrecisionFormat(shadertype, precisiontype, memAddress(range), memAddress(precision));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glGetShaderSource ] ---
@@ -1271,7 +1399,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetShaderSource(shader, source.remaining(), memAddressSafe(length), memAddress(source));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetShaderSource">Reference Page</a> */
@@ -1281,7 +1411,9 @@ public class GLES20 {
         ByteBuffer source = memAlloc(bufSize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetShaderSource(shader, bufSize, memAddress(length), memAddress(source));
+            FunctionProfiler.end(PROFILE_ID + 29, __start);
             return memUTF8(source, length.get(0));
         } finally {
             memFree(source);
@@ -1303,7 +1435,8 @@ public class GLES20 {
     @Nullable
     @NativeType("GLubyte const *")
     public static String glGetString(@NativeType("GLenum") int name) {
-        long __result = nglGetString(name);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 30, __start, nglGetString(name));
         return memUTF8Safe(__result);
     }
 
@@ -1316,7 +1449,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTexParameter">Reference Page</a> */
@@ -1325,7 +1460,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterfv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 31, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1341,7 +1478,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTexParameter">Reference Page</a> */
@@ -1350,7 +1489,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 32, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1366,7 +1507,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformfv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetUniform">Reference Page</a> */
@@ -1375,7 +1518,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformfv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 33, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1391,7 +1536,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformiv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetUniform">Reference Page</a> */
@@ -1400,7 +1547,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformiv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 34, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1417,7 +1566,8 @@ public class GLES20 {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetUniformLocation(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nglGetUniformLocation(program, memAddress(name)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetUniformLocation">Reference Page</a> */
@@ -1427,7 +1577,8 @@ public class GLES20 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetUniformLocation(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 35, __start, nglGetUniformLocation(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1442,7 +1593,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribfv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ glGetVertexAttribiv ] ---
@@ -1454,7 +1607,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribiv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ glGetVertexAttribPointerv ] ---
@@ -1466,7 +1621,9 @@ public class GLES20 {
         if (CHECKS) {
             check(pointer, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribPointerv(index, pname, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetVertexAttribPointerv">Reference Page</a> */
@@ -1475,7 +1632,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer pointer = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribPointerv(index, pname, memAddress(pointer));
+            FunctionProfiler.end(PROFILE_ID + 38, __start);
             return pointer.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1555,27 +1714,37 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glReadPixels">Reference Page</a> */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glReadPixels">Reference Page</a> */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glReadPixels">Reference Page</a> */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glReadPixels">Reference Page</a> */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glReadPixels">Reference Page</a> */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadPixels(x, y, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glReleaseShaderCompiler ] ---
@@ -1604,7 +1773,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glShaderBinary">Reference Page</a> */
     public static void glShaderBinary(@NativeType("GLuint const *") IntBuffer shaders, @NativeType("GLenum") int binaryformat, @NativeType("void const *") ByteBuffer binary) {
+        long __start = FunctionProfiler.start();
         nglShaderBinary(shaders.remaining(), memAddress(shaders), binaryformat, memAddress(binary), binary.remaining());
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ glShaderSource ] ---
@@ -1616,7 +1787,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, string.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglShaderSource(shader, string.remaining(), memAddress(string), memAddressSafe(length));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glShaderSource">Reference Page</a> */
@@ -1624,7 +1797,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+            long __start = FunctionProfiler.start();
             nglShaderSource(shader, string.length, stringAddress, stringAddress - (string.length << 2));
+            FunctionProfiler.end(PROFILE_ID + 41, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, string.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -1636,7 +1811,9 @@ public class GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+            long __start = FunctionProfiler.start();
             nglShaderSource(shader, 1, stringAddress, stringAddress - 4);
+            FunctionProfiler.end(PROFILE_ID + 41, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, 1);
         } finally {
             stack.setPointer(stackPointer);
@@ -1679,27 +1856,37 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage2D">Reference Page</a> */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage2D">Reference Page</a> */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage2D">Reference Page</a> */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage2D">Reference Page</a> */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage2D">Reference Page</a> */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage2D(target, level, internalformat, width, height, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ glTexParameterf ] ---
@@ -1716,7 +1903,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterfv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ glTexParameteri ] ---
@@ -1733,7 +1922,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ glTexSubImage2D ] ---
@@ -1742,27 +1933,37 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage2D">Reference Page</a> */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage2D">Reference Page</a> */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage2D">Reference Page</a> */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage2D">Reference Page</a> */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage2D">Reference Page</a> */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ glUniform1f ] ---
@@ -1776,7 +1977,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform1fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1fv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ glUniform1i ] ---
@@ -1790,7 +1993,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform1iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1iv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ glUniform2f ] ---
@@ -1804,7 +2009,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform2fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2fv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ glUniform2i ] ---
@@ -1818,7 +2025,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform2iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2iv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ glUniform3f ] ---
@@ -1832,7 +2041,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform3fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3fv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     // --- [ glUniform3i ] ---
@@ -1846,7 +2057,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform3iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3iv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ glUniform4f ] ---
@@ -1860,7 +2073,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform4fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4fv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     // --- [ glUniform4i ] ---
@@ -1874,7 +2089,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform4iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4iv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ glUniformMatrix2fv ] ---
@@ -1883,7 +2100,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2fv(location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ glUniformMatrix3fv ] ---
@@ -1892,7 +2111,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3fv(location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ glUniformMatrix4fv ] ---
@@ -1901,7 +2122,9 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4fv(location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     // --- [ glUseProgram ] ---
@@ -1928,7 +2151,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib1fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ glVertexAttrib2f ] ---
@@ -1945,7 +2170,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib2fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     // --- [ glVertexAttrib3f ] ---
@@ -1962,7 +2189,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib3fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     // --- [ glVertexAttrib4f ] ---
@@ -1979,7 +2208,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttrib4fv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ glVertexAttribPointer ] ---
@@ -1988,27 +2219,37 @@ public class GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribPointer">Reference Page</a> */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribPointer">Reference Page</a> */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribPointer">Reference Page</a> */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribPointer">Reference Page</a> */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribPointer">Reference Page</a> */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribPointer(index, size, type, normalized, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ glViewport ] ---
@@ -2023,7 +2264,9 @@ public class GLES20 {
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") short[] data, @NativeType("GLenum") int usage) {
         long __functionAddress = GLES.getICD().glBufferData;
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 1, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2033,7 +2276,9 @@ public class GLES20 {
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") int[] data, @NativeType("GLenum") int usage) {
         long __functionAddress = GLES.getICD().glBufferData;
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2043,7 +2288,9 @@ public class GLES20 {
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") float[] data, @NativeType("GLenum") int usage) {
         long __functionAddress = GLES.getICD().glBufferData;
+        long __start = FunctionProfiler.start();
         callPPV(target, Integer.toUnsignedLong(data.length) << 2, data, usage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2053,7 +2300,9 @@ public class GLES20 {
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") short[] data) {
         long __functionAddress = GLES.getICD().glBufferSubData;
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 1, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2063,7 +2312,9 @@ public class GLES20 {
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") int[] data) {
         long __functionAddress = GLES.getICD().glBufferSubData;
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2073,7 +2324,9 @@ public class GLES20 {
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") float[] data) {
         long __functionAddress = GLES.getICD().glBufferSubData;
+        long __start = FunctionProfiler.start();
         callPPPV(target, offset, Integer.toUnsignedLong(data.length) << 2, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -2083,7 +2336,9 @@ public class GLES20 {
      */
     public static void glDeleteBuffers(@NativeType("GLuint const *") int[] buffers) {
         long __functionAddress = GLES.getICD().glDeleteBuffers;
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -2093,7 +2348,9 @@ public class GLES20 {
      */
     public static void glDeleteFramebuffers(@NativeType("GLuint const *") int[] framebuffers) {
         long __functionAddress = GLES.getICD().glDeleteFramebuffers;
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -2103,7 +2360,9 @@ public class GLES20 {
      */
     public static void glDeleteRenderbuffers(@NativeType("GLuint const *") int[] renderbuffers) {
         long __functionAddress = GLES.getICD().glDeleteRenderbuffers;
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -2113,7 +2372,9 @@ public class GLES20 {
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") int[] textures) {
         long __functionAddress = GLES.getICD().glDeleteTextures;
+        long __start = FunctionProfiler.start();
         callPV(textures.length, textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -2123,7 +2384,9 @@ public class GLES20 {
      */
     public static void glGenBuffers(@NativeType("GLuint *") int[] buffers) {
         long __functionAddress = GLES.getICD().glGenBuffers;
+        long __start = FunctionProfiler.start();
         callPV(buffers.length, buffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -2133,7 +2396,9 @@ public class GLES20 {
      */
     public static void glGenFramebuffers(@NativeType("GLuint *") int[] framebuffers) {
         long __functionAddress = GLES.getICD().glGenFramebuffers;
+        long __start = FunctionProfiler.start();
         callPV(framebuffers.length, framebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -2143,7 +2408,9 @@ public class GLES20 {
      */
     public static void glGenRenderbuffers(@NativeType("GLuint *") int[] renderbuffers) {
         long __functionAddress = GLES.getICD().glGenRenderbuffers;
+        long __start = FunctionProfiler.start();
         callPV(renderbuffers.length, renderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -2153,7 +2420,9 @@ public class GLES20 {
      */
     public static void glGenTextures(@NativeType("GLuint *") int[] textures) {
         long __functionAddress = GLES.getICD().glGenTextures;
+        long __start = FunctionProfiler.start();
         callPV(textures.length, textures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2168,7 +2437,9 @@ public class GLES20 {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2183,7 +2454,9 @@ public class GLES20 {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2196,7 +2469,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(count, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, shaders.length, count, shaders, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2209,7 +2484,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2222,7 +2499,9 @@ public class GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2235,7 +2514,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachment, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -2248,7 +2529,9 @@ public class GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -2261,7 +2544,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -2274,7 +2559,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -2287,7 +2574,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -2300,7 +2589,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(shader, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -2313,7 +2604,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -2327,7 +2620,9 @@ public class GLES20 {
             check(range, 2);
             check(precision, 2);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shadertype, precisiontype, range, precision, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2340,7 +2635,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, source.remaining(), length, memAddress(source), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -2353,7 +2650,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2366,7 +2665,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2379,7 +2680,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2392,7 +2695,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2405,7 +2710,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2418,7 +2725,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /**
@@ -2428,7 +2737,9 @@ public class GLES20 {
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") short[] pixels) {
         long __functionAddress = GLES.getICD().glReadPixels;
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2438,7 +2749,9 @@ public class GLES20 {
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") int[] pixels) {
         long __functionAddress = GLES.getICD().glReadPixels;
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2448,7 +2761,9 @@ public class GLES20 {
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") float[] pixels) {
         long __functionAddress = GLES.getICD().glReadPixels;
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2458,7 +2773,9 @@ public class GLES20 {
      */
     public static void glShaderBinary(@NativeType("GLuint const *") int[] shaders, @NativeType("GLenum") int binaryformat, @NativeType("void const *") ByteBuffer binary) {
         long __functionAddress = GLES.getICD().glShaderBinary;
+        long __start = FunctionProfiler.start();
         callPPV(shaders.length, shaders, binaryformat, memAddress(binary), binary.remaining(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     /**
@@ -2471,7 +2788,9 @@ public class GLES20 {
         if (CHECKS) {
             checkSafe(length, string.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(shader, string.remaining(), memAddress(string), length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2481,7 +2800,9 @@ public class GLES20 {
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") short[] pixels) {
         long __functionAddress = GLES.getICD().glTexImage2D;
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2491,7 +2812,9 @@ public class GLES20 {
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") int[] pixels) {
         long __functionAddress = GLES.getICD().glTexImage2D;
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2501,7 +2824,9 @@ public class GLES20 {
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") float[] pixels) {
         long __functionAddress = GLES.getICD().glTexImage2D;
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2514,7 +2839,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -2527,7 +2854,9 @@ public class GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /**
@@ -2537,7 +2866,9 @@ public class GLES20 {
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
         long __functionAddress = GLES.getICD().glTexSubImage2D;
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -2547,7 +2878,9 @@ public class GLES20 {
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
         long __functionAddress = GLES.getICD().glTexSubImage2D;
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -2557,7 +2890,9 @@ public class GLES20 {
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
         long __functionAddress = GLES.getICD().glTexSubImage2D;
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, width, height, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /**
@@ -2567,7 +2902,9 @@ public class GLES20 {
      */
     public static void glUniform1fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniform1fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /**
@@ -2577,7 +2914,9 @@ public class GLES20 {
      */
     public static void glUniform1iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
         long __functionAddress = GLES.getICD().glUniform1iv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     /**
@@ -2587,7 +2926,9 @@ public class GLES20 {
      */
     public static void glUniform2fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniform2fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -2597,7 +2938,9 @@ public class GLES20 {
      */
     public static void glUniform2iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
         long __functionAddress = GLES.getICD().glUniform2iv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -2607,7 +2950,9 @@ public class GLES20 {
      */
     public static void glUniform3fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniform3fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -2617,7 +2962,9 @@ public class GLES20 {
      */
     public static void glUniform3iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
         long __functionAddress = GLES.getICD().glUniform3iv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -2627,7 +2974,9 @@ public class GLES20 {
      */
     public static void glUniform4fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniform4fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -2637,7 +2986,9 @@ public class GLES20 {
      */
     public static void glUniform4iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
         long __functionAddress = GLES.getICD().glUniform4iv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -2647,7 +2998,9 @@ public class GLES20 {
      */
     public static void glUniformMatrix2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniformMatrix2fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -2657,7 +3010,9 @@ public class GLES20 {
      */
     public static void glUniformMatrix3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniformMatrix3fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -2667,7 +3022,9 @@ public class GLES20 {
      */
     public static void glUniformMatrix4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
         long __functionAddress = GLES.getICD().glUniformMatrix4fv;
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -2680,7 +3037,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -2693,7 +3052,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     /**
@@ -2706,7 +3067,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 3);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -2719,7 +3082,9 @@ public class GLES20 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
 }
\ No newline at end of file
@@ -346,6 +346,8 @@ public class GLES30 extends GLES20 {
 
     public static final long GL_TIMEOUT_IGNORED = 0xFFFFFFFFFFFFFFFFL;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLES30.class, "glDrawRangeElements,glTexImage3D,glTexSubImage3D,glCompressedTexImage3D,glCompressedTexSubImage3D,glGenQueries,glDeleteQueries,glGetQueryiv,glGetQueryObjectuiv,glGetBufferPointerv,glDrawBuffers,glUniformMatrix2x3fv,glUniformMatrix3x2fv,glUniformMatrix2x4fv,glUniformMatrix4x2fv,glUniformMatrix3x4fv,glUniformMatrix4x3fv,glMapBufferRange,glDeleteVertexArrays,glGenVertexArrays,glGetIntegeri_v,glTransformFeedbackVaryings,glGetTransformFeedbackVarying,glVertexAttribIPointer,glGetVertexAttribIiv,glGetVertexAttribIuiv,glVertexAttribI4iv,glVertexAttribI4uiv,glGetUniformuiv,glGetFragDataLocation,glUniform1uiv,glUniform2uiv,glUniform3uiv,glUniform4uiv,glClearBufferiv,glClearBufferuiv,glClearBufferfv,glGetStringi,glGetUniformIndices,glGetActiveUniformsiv,glGetUniformBlockIndex,glGetActiveUniformBlockiv,glGetActiveUniformBlockName,glDrawElementsInstanced,glIsSync,glDeleteSync,glClientWaitSync,glWaitSync,glGetInteger64v,glGetSynciv,glGetInteger64i_v,glGetBufferParameteri64v,glGenSamplers,glDeleteSamplers,glSamplerParameteriv,glSamplerParameterfv,glGetSamplerParameteriv,glGetSamplerParameterfv,glDeleteTransformFeedbacks,glGenTransformFeedbacks,glGetProgramBinary,glProgramBinary,glInvalidateFramebuffer,glInvalidateSubFramebuffer,glGetInternalformativ");
+
     static { GLES.initialize(); }
 
     protected GLES30() {
@@ -387,27 +389,37 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElements">Reference Page</a> */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, count, type, indices);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElements">Reference Page</a> */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElements">Reference Page</a> */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ByteBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElements">Reference Page</a> */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ShortBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElements">Reference Page</a> */
     public static void glDrawRangeElements(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") IntBuffer indices) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElements(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glTexImage3D ] ---
@@ -416,27 +428,37 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage3D">Reference Page</a> */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage3D">Reference Page</a> */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage3D">Reference Page</a> */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage3D">Reference Page</a> */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexImage3D">Reference Page</a> */
     public static void glTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, memAddressSafe(pixels));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glTexSubImage3D ] ---
@@ -445,27 +467,37 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage3D">Reference Page</a> */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage3D">Reference Page</a> */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage3D">Reference Page</a> */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage3D">Reference Page</a> */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexSubImage3D">Reference Page</a> */
     public static void glTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glCopyTexSubImage3D ] ---
@@ -479,12 +511,16 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexImage3D">Reference Page</a> */
     public static void glCompressedTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @NativeType("GLsizei") int imageSize, @Nullable @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage3D(target, level, internalformat, width, height, depth, border, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexImage3D">Reference Page</a> */
     public static void glCompressedTexImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLint") int border, @Nullable @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexImage3D(target, level, internalformat, width, height, depth, border, remainingSafe(data), memAddressSafe(data));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glCompressedTexSubImage3D ] ---
@@ -493,12 +529,16 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexSubImage3D">Reference Page</a> */
     public static void glCompressedTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLsizei") int imageSize, @NativeType("void const *") long data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, imageSize, data);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glCompressedTexSubImage3D">Reference Page</a> */
     public static void glCompressedTexSubImage3D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer data) {
+        long __start = FunctionProfiler.start();
         nglCompressedTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, data.remaining(), memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGenQueries ] ---
@@ -507,7 +547,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenQueries">Reference Page</a> */
     public static void glGenQueries(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglGenQueries(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenQueries">Reference Page</a> */
@@ -516,7 +558,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenQueries(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -529,7 +573,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteQueries">Reference Page</a> */
     public static void glDeleteQueries(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteQueries(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteQueries">Reference Page</a> */
@@ -537,7 +583,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteQueries(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -568,7 +616,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetQuery">Reference Page</a> */
@@ -577,7 +627,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -593,7 +645,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetQueryObjectuiv(id, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetQueryObject">Reference Page</a> */
@@ -602,7 +656,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetQueryObjectuiv(id, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -624,7 +680,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferPointerv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetBufferPointerv">Reference Page</a> */
@@ -633,7 +691,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferPointerv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -646,7 +706,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawBuffers">Reference Page</a> */
     public static void glDrawBuffers(@NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglDrawBuffers(bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawBuffers">Reference Page</a> */
@@ -654,7 +716,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer bufs = stack.ints(buf);
+            long __start = FunctionProfiler.start();
             nglDrawBuffers(1, memAddress(bufs));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -666,7 +730,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix2x3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x3fv(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glUniformMatrix3x2fv ] ---
@@ -675,7 +741,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix3x2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x2fv(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glUniformMatrix2x4fv ] ---
@@ -684,7 +752,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix2x4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x4fv(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glUniformMatrix4x2fv ] ---
@@ -693,7 +763,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix4x2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x2fv(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glUniformMatrix3x4fv ] ---
@@ -702,7 +774,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix3x4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x4fv(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glUniformMatrix4x3fv ] ---
@@ -711,7 +785,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniformMatrix4x3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x3fv(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glBlitFramebuffer ] ---
@@ -737,7 +813,8 @@ public class GLES30 extends GLES20 {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferRange(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access) {
-        long __result = nglMapBufferRange(target, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 17, __start, nglMapBufferRange(target, offset, length, access));
         return memByteBufferSafe(__result, (int)length);
     }
 
@@ -745,7 +822,8 @@ public class GLES30 extends GLES20 {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferRange(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("GLsizeiptr") long length, @NativeType("GLbitfield") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferRange(target, offset, length, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 17, __start, nglMapBufferRange(target, offset, length, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -765,7 +843,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteVertexArrays">Reference Page</a> */
     public static void glDeleteVertexArrays(@NativeType("GLuint const *") IntBuffer arrays) {
+        long __start = FunctionProfiler.start();
         nglDeleteVertexArrays(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteVertexArrays">Reference Page</a> */
@@ -773,7 +853,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.ints(array);
+            long __start = FunctionProfiler.start();
             nglDeleteVertexArrays(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -785,7 +867,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenVertexArrays">Reference Page</a> */
     public static void glGenVertexArrays(@NativeType("GLuint *") IntBuffer arrays) {
+        long __start = FunctionProfiler.start();
         nglGenVertexArrays(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenVertexArrays">Reference Page</a> */
@@ -794,7 +878,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenVertexArrays(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return arrays.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -816,7 +902,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetIntegeri_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetIntegeri_v">Reference Page</a> */
@@ -825,7 +913,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer data = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetIntegeri_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -858,7 +948,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glTransformFeedbackVaryings">Reference Page</a> */
     public static void glTransformFeedbackVaryings(@NativeType("GLuint") int program, @NativeType("GLchar const * const *") PointerBuffer varyings, @NativeType("GLenum") int bufferMode) {
+        long __start = FunctionProfiler.start();
         nglTransformFeedbackVaryings(program, varyings.remaining(), memAddress(varyings), bufferMode);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTransformFeedbackVaryings">Reference Page</a> */
@@ -866,7 +958,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long varyingsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, varyings);
+            long __start = FunctionProfiler.start();
             nglTransformFeedbackVaryings(program, varyings.length, varyingsAddress, bufferMode);
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(varyingsAddress, varyings.length);
         } finally {
             stack.setPointer(stackPointer);
@@ -878,7 +972,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long varyingsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memASCII, varying);
+            long __start = FunctionProfiler.start();
             nglTransformFeedbackVaryings(program, 1, varyingsAddress, bufferMode);
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
             org.lwjgl.system.APIUtil.apiArrayFree(varyingsAddress, 1);
         } finally {
             stack.setPointer(stackPointer);
@@ -896,7 +992,9 @@ public class GLES30 extends GLES20 {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTransformFeedbackVarying(program, index, name.remaining(), memAddressSafe(length), memAddress(size), memAddress(type), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTransformFeedbackVarying">Reference Page</a> */
@@ -910,7 +1008,9 @@ public class GLES30 extends GLES20 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetTransformFeedbackVarying(program, index, bufSize, memAddress(length), memAddress(size), memAddress(type), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 22, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -929,22 +1029,30 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribIPointer">Reference Page</a> */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribIPointer">Reference Page</a> */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, pointer);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribIPointer">Reference Page</a> */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glVertexAttribIPointer">Reference Page</a> */
     public static void glVertexAttribIPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
+        long __start = FunctionProfiler.start();
         nglVertexAttribIPointer(index, size, type, stride, memAddress(pointer));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glGetVertexAttribIiv ] ---
@@ -956,7 +1064,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribIiv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetVertexAttrib">Reference Page</a> */
@@ -965,7 +1075,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribIiv(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -981,7 +1093,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetVertexAttribIuiv(index, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetVertexAttrib">Reference Page</a> */
@@ -990,7 +1104,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetVertexAttribIuiv(index, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 25, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1016,7 +1132,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4iv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glVertexAttribI4uiv ] ---
@@ -1028,7 +1146,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglVertexAttribI4uiv(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glGetUniformuiv ] ---
@@ -1040,7 +1160,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformuiv(program, location, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetUniform">Reference Page</a> */
@@ -1049,7 +1171,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetUniformuiv(program, location, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 28, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1066,7 +1190,8 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetFragDataLocation(program, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nglGetFragDataLocation(program, memAddress(name)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetFragDataLocation">Reference Page</a> */
@@ -1076,7 +1201,8 @@ public class GLES30 extends GLES20 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetFragDataLocation(program, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 29, __start, nglGetFragDataLocation(program, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1108,7 +1234,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform1uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform1uiv(location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glUniform2uiv ] ---
@@ -1117,7 +1245,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform2uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform2uiv(location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glUniform3uiv ] ---
@@ -1126,7 +1256,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform3uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform3uiv(location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glUniform4uiv ] ---
@@ -1135,7 +1267,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glUniform">Reference Page</a> */
     public static void glUniform4uiv(@NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniform4uiv(location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ glClearBufferiv ] ---
@@ -1147,7 +1281,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearBufferiv(buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glClearBufferuiv ] ---
@@ -1159,7 +1295,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearBufferuiv(buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ glClearBufferfv ] ---
@@ -1171,7 +1309,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglClearBufferfv(buffer, drawbuffer, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ glClearBufferfi ] ---
@@ -1187,7 +1327,8 @@ public class GLES30 extends GLES20 {
     @Nullable
     @NativeType("GLubyte const *")
     public static String glGetStringi(@NativeType("GLenum") int name, @NativeType("GLuint") int index) {
-        long __result = nglGetStringi(name, index);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 37, __start, nglGetStringi(name, index));
         return memUTF8Safe(__result);
     }
 
@@ -1205,7 +1346,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(uniformIndices, uniformNames.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglGetUniformIndices(program, uniformNames.remaining(), memAddress(uniformNames), memAddress(uniformIndices));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ glGetActiveUniformsiv ] ---
@@ -1217,7 +1360,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, uniformIndices.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformsiv(program, uniformIndices.remaining(), memAddress(uniformIndices), pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ glGetUniformBlockIndex ] ---
@@ -1230,7 +1375,8 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             checkNT1(uniformBlockName);
         }
-        return nglGetUniformBlockIndex(program, memAddress(uniformBlockName));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, nglGetUniformBlockIndex(program, memAddress(uniformBlockName)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetUniformBlockIndex">Reference Page</a> */
@@ -1240,7 +1386,8 @@ public class GLES30 extends GLES20 {
         try {
             stack.nASCII(uniformBlockName, true);
             long uniformBlockNameEncoded = stack.getPointerAddress();
-            return nglGetUniformBlockIndex(program, uniformBlockNameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 40, __start, nglGetUniformBlockIndex(program, uniformBlockNameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1255,7 +1402,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformBlockiv(program, uniformBlockIndex, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetActiveUniformBlock">Reference Page</a> */
@@ -1264,7 +1413,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformBlockiv(program, uniformBlockIndex, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 41, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1280,7 +1431,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetActiveUniformBlockName(program, uniformBlockIndex, uniformBlockName.remaining(), memAddressSafe(length), memAddress(uniformBlockName));
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetActiveUniformBlockName">Reference Page</a> */
@@ -1290,7 +1443,9 @@ public class GLES30 extends GLES20 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer uniformBlockName = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetActiveUniformBlockName(program, uniformBlockIndex, bufSize, memAddress(length), memAddress(uniformBlockName));
+            FunctionProfiler.end(PROFILE_ID + 42, __start);
             return memASCII(uniformBlockName, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1319,27 +1474,37 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstanced">Reference Page</a> */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int instancecount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, count, type, indices, instancecount);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstanced">Reference Page</a> */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int instancecount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), instancecount);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstanced">Reference Page</a> */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int instancecount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), instancecount);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstanced">Reference Page</a> */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int instancecount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), instancecount);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstanced">Reference Page</a> */
     public static void glDrawElementsInstanced(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int instancecount) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstanced(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), instancecount);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ glFenceSync ] ---
@@ -1358,7 +1523,8 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(sync);
         }
-        return nglIsSync(sync);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nglIsSync(sync));
     }
 
     // --- [ glDeleteSync ] ---
@@ -1370,7 +1536,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(sync);
         }
+        long __start = FunctionProfiler.start();
         nglDeleteSync(sync);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ glClientWaitSync ] ---
@@ -1383,7 +1551,8 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(sync);
         }
-        return nglClientWaitSync(sync, flags, timeout);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, nglClientWaitSync(sync, flags, timeout));
     }
 
     // --- [ glWaitSync ] ---
@@ -1395,7 +1564,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(sync);
         }
+        long __start = FunctionProfiler.start();
         nglWaitSync(sync, flags, timeout);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ glGetInteger64v ] ---
@@ -1407,7 +1578,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetInteger64v(pname, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetInteger64v">Reference Page</a> */
@@ -1416,7 +1589,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer data = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetInteger64v(pname, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 48, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1433,7 +1608,9 @@ public class GLES30 extends GLES20 {
             check(sync);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSynciv(sync, pname, values.remaining(), memAddressSafe(length), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetSync">Reference Page</a> */
@@ -1446,7 +1623,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer values = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSynciv(sync, pname, 1, memAddressSafe(length), memAddress(values));
+            FunctionProfiler.end(PROFILE_ID + 49, __start);
             return values.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1462,7 +1641,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetInteger64i_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetInteger">Reference Page</a> */
@@ -1471,7 +1652,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer data = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetInteger64i_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 50, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1487,7 +1670,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferParameteri64v(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetBufferParameter">Reference Page</a> */
@@ -1496,7 +1681,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             LongBuffer params = stack.callocLong(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferParameteri64v(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 51, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1509,7 +1696,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenSamplers">Reference Page</a> */
     public static void glGenSamplers(@NativeType("GLuint *") IntBuffer samplers) {
+        long __start = FunctionProfiler.start();
         nglGenSamplers(samplers.remaining(), memAddress(samplers));
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenSamplers">Reference Page</a> */
@@ -1518,7 +1707,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer samplers = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenSamplers(1, memAddress(samplers));
+            FunctionProfiler.end(PROFILE_ID + 52, __start);
             return samplers.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1531,7 +1722,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteSamplers">Reference Page</a> */
     public static void glDeleteSamplers(@NativeType("GLuint const *") IntBuffer samplers) {
+        long __start = FunctionProfiler.start();
         nglDeleteSamplers(samplers.remaining(), memAddress(samplers));
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteSamplers">Reference Page</a> */
@@ -1539,7 +1732,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer samplers = stack.ints(sampler);
+            long __start = FunctionProfiler.start();
             nglDeleteSamplers(1, memAddress(samplers));
+            FunctionProfiler.end(PROFILE_ID + 53, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1570,7 +1765,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameteriv(sampler, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     // --- [ glSamplerParameterf ] ---
@@ -1587,7 +1784,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterfv(sampler, pname, memAddress(param));
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ glGetSamplerParameteriv ] ---
@@ -1599,7 +1798,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameteriv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetSamplerParameter">Reference Page</a> */
@@ -1608,7 +1809,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameteriv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 56, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1624,7 +1827,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterfv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetSamplerParameter">Reference Page</a> */
@@ -1633,7 +1838,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterfv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 57, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1656,7 +1863,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteTransformFeedbacks">Reference Page</a> */
     public static void glDeleteTransformFeedbacks(@NativeType("GLuint const *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglDeleteTransformFeedbacks(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteTransformFeedbacks">Reference Page</a> */
@@ -1664,7 +1873,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDeleteTransformFeedbacks(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 58, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1676,7 +1887,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenTransformFeedbacks">Reference Page</a> */
     public static void glGenTransformFeedbacks(@NativeType("GLuint *") IntBuffer ids) {
+        long __start = FunctionProfiler.start();
         nglGenTransformFeedbacks(ids.remaining(), memAddress(ids));
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenTransformFeedbacks">Reference Page</a> */
@@ -1685,7 +1898,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenTransformFeedbacks(1, memAddress(ids));
+            FunctionProfiler.end(PROFILE_ID + 59, __start);
             return ids.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1718,7 +1933,9 @@ public class GLES30 extends GLES20 {
             checkSafe(length, 1);
             check(binaryFormat, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramBinary(program, binary.remaining(), memAddressSafe(length), memAddress(binaryFormat), memAddress(binary));
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     // --- [ glProgramBinary ] ---
@@ -1727,7 +1944,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramBinary">Reference Page</a> */
     public static void glProgramBinary(@NativeType("GLuint") int program, @NativeType("GLenum") int binaryFormat, @NativeType("void const *") ByteBuffer binary) {
+        long __start = FunctionProfiler.start();
         nglProgramBinary(program, binaryFormat, memAddress(binary), binary.remaining());
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ glProgramParameteri ] ---
@@ -1741,7 +1960,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glInvalidateFramebuffer">Reference Page</a> */
     public static void glInvalidateFramebuffer(@NativeType("GLenum") int target, @NativeType("GLenum const *") IntBuffer attachments) {
+        long __start = FunctionProfiler.start();
         nglInvalidateFramebuffer(target, attachments.remaining(), memAddress(attachments));
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glInvalidateFramebuffer">Reference Page</a> */
@@ -1749,7 +1970,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglInvalidateFramebuffer(target, 1, memAddress(attachments));
+            FunctionProfiler.end(PROFILE_ID + 62, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1761,7 +1984,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glInvalidateSubFramebuffer">Reference Page</a> */
     public static void glInvalidateSubFramebuffer(@NativeType("GLenum") int target, @NativeType("GLenum const *") IntBuffer attachments, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
+        long __start = FunctionProfiler.start();
         nglInvalidateSubFramebuffer(target, attachments.remaining(), memAddress(attachments), x, y, width, height);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glInvalidateSubFramebuffer">Reference Page</a> */
@@ -1769,7 +1994,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer attachments = stack.ints(attachment);
+            long __start = FunctionProfiler.start();
             nglInvalidateSubFramebuffer(target, 1, memAddress(attachments), x, y, width, height);
+            FunctionProfiler.end(PROFILE_ID + 63, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1791,7 +2018,9 @@ public class GLES30 extends GLES20 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetInternalformat">Reference Page</a> */
     public static void glGetInternalformativ(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetInternalformativ(target, internalformat, pname, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetInternalformat">Reference Page</a> */
@@ -1800,7 +2029,9 @@ public class GLES30 extends GLES20 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetInternalformativ(target, internalformat, pname, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 64, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1817,7 +2048,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1830,7 +2063,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1843,7 +2078,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, internalformat, width, height, depth, border, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1856,7 +2093,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1869,7 +2108,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1882,7 +2123,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1895,7 +2138,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1908,7 +2153,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1922,7 +2169,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1936,7 +2185,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(id, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1949,7 +2200,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1962,7 +2215,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1975,7 +2230,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1988,7 +2245,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -2001,7 +2260,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2014,7 +2275,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2027,7 +2290,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2040,7 +2305,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -2053,7 +2320,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -2067,7 +2336,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2083,7 +2354,9 @@ public class GLES30 extends GLES20 {
             check(size, 1);
             check(type, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(program, index, name.remaining(), length, size, type, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -2097,7 +2370,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -2111,7 +2386,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -2125,7 +2402,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -2139,7 +2418,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -2153,7 +2434,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -2166,7 +2449,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -2179,7 +2464,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -2192,7 +2479,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -2205,7 +2494,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -2219,7 +2510,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /**
@@ -2233,7 +2526,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -2247,7 +2542,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(buffer, drawbuffer, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -2261,7 +2558,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(uniformIndices, uniformNames.remaining());
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformNames.remaining(), memAddress(uniformNames), uniformIndices, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /**
@@ -2275,7 +2574,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, uniformIndices.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformIndices.length, uniformIndices, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /**
@@ -2289,7 +2590,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, uniformBlockIndex, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -2303,7 +2606,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, uniformBlockIndex, uniformBlockName.remaining(), length, memAddress(uniformBlockName), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     /**
@@ -2317,7 +2622,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -2332,7 +2639,9 @@ public class GLES30 extends GLES20 {
             check(sync);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(sync, pname, values.length, length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     /**
@@ -2346,7 +2655,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 50, __start);
     }
 
     /**
@@ -2360,7 +2671,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -2373,7 +2686,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(samplers.length, samplers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 52, __start);
     }
 
     /**
@@ -2386,7 +2701,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(samplers.length, samplers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -2400,7 +2717,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 54, __start);
     }
 
     /**
@@ -2414,7 +2733,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(param, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, param, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -2428,7 +2749,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -2442,7 +2765,9 @@ public class GLES30 extends GLES20 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     /**
@@ -2455,7 +2780,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     /**
@@ -2468,7 +2795,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(ids.length, ids, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     /**
@@ -2483,7 +2812,9 @@ public class GLES30 extends GLES20 {
             checkSafe(length, 1);
             check(binaryFormat, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, binary.remaining(), length, binaryFormat, memAddress(binary), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     /**
@@ -2496,7 +2827,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachments.length, attachments, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     /**
@@ -2509,7 +2842,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, attachments.length, attachments, x, y, width, height, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     /**
@@ -2522,7 +2857,9 @@ public class GLES30 extends GLES20 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, pname, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
 }
\ No newline at end of file
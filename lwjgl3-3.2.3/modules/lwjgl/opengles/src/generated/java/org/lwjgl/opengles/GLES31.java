@@ -196,6 +196,8 @@ public class GLES31 extends GLES30 {
         GL_MAX_VERTEX_ATTRIB_BINDINGS                 = 0x82DA,
         GL_MAX_VERTEX_ATTRIB_STRIDE                   = 0x82E5;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLES31.class, "glDrawArraysIndirect,glDrawElementsIndirect,glGetFramebufferParameteriv,glGetProgramInterfaceiv,glGetProgramResourceIndex,glGetProgramResourceName,glGetProgramResourceiv,glGetProgramResourceLocation,glCreateShaderProgramv,glDeleteProgramPipelines,glGenProgramPipelines,glGetProgramPipelineiv,glProgramUniform1iv,glProgramUniform2iv,glProgramUniform3iv,glProgramUniform4iv,glProgramUniform1uiv,glProgramUniform2uiv,glProgramUniform3uiv,glProgramUniform4uiv,glProgramUniform1fv,glProgramUniform2fv,glProgramUniform3fv,glProgramUniform4fv,glProgramUniformMatrix2fv,glProgramUniformMatrix3fv,glProgramUniformMatrix4fv,glProgramUniformMatrix2x3fv,glProgramUniformMatrix3x2fv,glProgramUniformMatrix2x4fv,glProgramUniformMatrix4x2fv,glProgramUniformMatrix3x4fv,glProgramUniformMatrix4x3fv,glGetProgramPipelineInfoLog,glGetBooleani_v,glGetMultisamplefv,glGetTexLevelParameteriv,glGetTexLevelParameterfv");
+
     static { GLES.initialize(); }
 
     protected GLES31() {
@@ -241,12 +243,16 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(indirect, 4 * 4);
         }
+        long __start = FunctionProfiler.start();
         nglDrawArraysIndirect(mode, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawArraysIndirect">Reference Page</a> */
     public static void glDrawArraysIndirect(@NativeType("GLenum") int mode, @NativeType("void const *") long indirect) {
+        long __start = FunctionProfiler.start();
         nglDrawArraysIndirect(mode, indirect);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawArraysIndirect">Reference Page</a> */
@@ -254,7 +260,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(indirect, (4 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglDrawArraysIndirect(mode, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glDrawElementsIndirect ] ---
@@ -266,12 +274,16 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(indirect, 5 * 4);
         }
+        long __start = FunctionProfiler.start();
         nglDrawElementsIndirect(mode, type, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsIndirect">Reference Page</a> */
     public static void glDrawElementsIndirect(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") long indirect) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsIndirect(mode, type, indirect);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsIndirect">Reference Page</a> */
@@ -279,7 +291,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(indirect, (5 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         nglDrawElementsIndirect(mode, type, memAddress(indirect));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glFramebufferParameteri ] ---
@@ -296,7 +310,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFramebufferParameteriv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetFramebufferParameter">Reference Page</a> */
@@ -305,7 +321,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFramebufferParameteriv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -321,7 +339,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramInterfaceiv(program, programInterface, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramInterface">Reference Page</a> */
@@ -330,7 +350,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramInterfaceiv(program, programInterface, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -347,7 +369,8 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetProgramResourceIndex(program, programInterface, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nglGetProgramResourceIndex(program, programInterface, memAddress(name)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramResourceIndex">Reference Page</a> */
@@ -357,7 +380,8 @@ public class GLES31 extends GLES30 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetProgramResourceIndex(program, programInterface, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 4, __start, nglGetProgramResourceIndex(program, programInterface, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -372,7 +396,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramResourceName(program, programInterface, index, name.remaining(), memAddressSafe(length), memAddress(name));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramResourceName">Reference Page</a> */
@@ -382,7 +408,9 @@ public class GLES31 extends GLES30 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer name = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetProgramResourceName(program, programInterface, index, bufSize, memAddress(length), memAddress(name));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return memASCII(name, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -404,7 +432,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramResourceiv(program, programInterface, index, props.remaining(), memAddress(props), params.remaining(), memAddressSafe(length), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glGetProgramResourceLocation ] ---
@@ -417,7 +447,8 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nglGetProgramResourceLocation(program, programInterface, memAddress(name));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nglGetProgramResourceLocation(program, programInterface, memAddress(name)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramResourceLocation">Reference Page</a> */
@@ -427,7 +458,8 @@ public class GLES31 extends GLES30 {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nglGetProgramResourceLocation(program, programInterface, nameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 7, __start, nglGetProgramResourceLocation(program, programInterface, nameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -450,7 +482,8 @@ public class GLES31 extends GLES30 {
     /** <a target="_blank" href="http://docs.gl/es3/glCreateShaderProgramv">Reference Page</a> */
     @NativeType("GLuint")
     public static int glCreateShaderProgramv(@NativeType("GLenum") int type, @NativeType("GLchar const * const *") PointerBuffer strings) {
-        return nglCreateShaderProgramv(type, strings.remaining(), memAddress(strings));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nglCreateShaderProgramv(type, strings.remaining(), memAddress(strings)));
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glCreateShaderProgramv">Reference Page</a> */
@@ -459,7 +492,8 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memUTF8, strings);
-            int __result = nglCreateShaderProgramv(type, strings.length, stringsAddress);
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nglCreateShaderProgramv(type, strings.length, stringsAddress));
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, strings.length);
             return __result;
         } finally {
@@ -473,7 +507,8 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             long stringsAddress = org.lwjgl.system.APIUtil.apiArray(stack, MemoryUtil::memUTF8, string);
-            int __result = nglCreateShaderProgramv(type, 1, stringsAddress);
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nglCreateShaderProgramv(type, 1, stringsAddress));
             org.lwjgl.system.APIUtil.apiArrayFree(stringsAddress, 1);
             return __result;
         } finally {
@@ -492,7 +527,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteProgramPipelines">Reference Page</a> */
     public static void glDeleteProgramPipelines(@NativeType("GLuint const *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglDeleteProgramPipelines(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDeleteProgramPipelines">Reference Page</a> */
@@ -500,7 +537,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.ints(pipeline);
+            long __start = FunctionProfiler.start();
             nglDeleteProgramPipelines(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -512,7 +551,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenProgramPipelines">Reference Page</a> */
     public static void glGenProgramPipelines(@NativeType("GLuint *") IntBuffer pipelines) {
+        long __start = FunctionProfiler.start();
         nglGenProgramPipelines(pipelines.remaining(), memAddress(pipelines));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGenProgramPipelines">Reference Page</a> */
@@ -521,7 +562,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer pipelines = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenProgramPipelines(1, memAddress(pipelines));
+            FunctionProfiler.end(PROFILE_ID + 10, __start);
             return pipelines.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -543,7 +586,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramPipelineiv(pipeline, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramPipeline">Reference Page</a> */
@@ -552,7 +597,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetProgramPipelineiv(pipeline, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 11, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -625,7 +672,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform1iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1iv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glProgramUniform2iv ] ---
@@ -634,7 +683,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform2iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2iv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glProgramUniform3iv ] ---
@@ -643,7 +694,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform3iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3iv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glProgramUniform4iv ] ---
@@ -652,7 +705,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform4iv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4iv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glProgramUniform1uiv ] ---
@@ -661,7 +716,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform1uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1uiv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glProgramUniform2uiv ] ---
@@ -670,7 +727,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform2uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2uiv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glProgramUniform3uiv ] ---
@@ -679,7 +738,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform3uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3uiv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glProgramUniform4uiv ] ---
@@ -688,7 +749,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform4uiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint const *") IntBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4uiv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glProgramUniform1fv ] ---
@@ -697,7 +760,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform1fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform1fv(program, location, value.remaining(), memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ glProgramUniform2fv ] ---
@@ -706,7 +771,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform2fv(program, location, value.remaining() >> 1, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glProgramUniform3fv ] ---
@@ -715,7 +782,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform3fv(program, location, value.remaining() / 3, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ glProgramUniform4fv ] ---
@@ -724,7 +793,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniform4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniform4fv(program, location, value.remaining() >> 2, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ glProgramUniformMatrix2fv ] ---
@@ -733,7 +804,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2fv(program, location, value.remaining() >> 2, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glProgramUniformMatrix3fv ] ---
@@ -742,7 +815,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3fv(program, location, value.remaining() / 9, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ glProgramUniformMatrix4fv ] ---
@@ -751,7 +826,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4fv(program, location, value.remaining() >> 4, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glProgramUniformMatrix2x3fv ] ---
@@ -760,7 +837,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix2x3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x3fv(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glProgramUniformMatrix3x2fv ] ---
@@ -769,7 +848,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix3x2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x2fv(program, location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glProgramUniformMatrix2x4fv ] ---
@@ -778,7 +859,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix2x4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix2x4fv(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glProgramUniformMatrix4x2fv ] ---
@@ -787,7 +870,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix4x2fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x2fv(program, location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ glProgramUniformMatrix3x4fv ] ---
@@ -796,7 +881,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix3x4fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix3x4fv(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glProgramUniformMatrix4x3fv ] ---
@@ -805,7 +892,9 @@ public class GLES31 extends GLES30 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glProgramUniform">Reference Page</a> */
     public static void glProgramUniformMatrix4x3fv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformMatrix4x3fv(program, location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glValidateProgramPipeline ] ---
@@ -822,7 +911,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramPipelineInfoLog(pipeline, infoLog.remaining(), memAddressSafe(length), memAddress(infoLog));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetProgramPipelineInfoLog">Reference Page</a> */
@@ -832,7 +923,9 @@ public class GLES31 extends GLES30 {
         ByteBuffer infoLog = memAlloc(bufSize);
         try {
             IntBuffer length = stack.ints(0);
+            long __start = FunctionProfiler.start();
             nglGetProgramPipelineInfoLog(pipeline, bufSize, memAddress(length), memAddress(infoLog));
+            FunctionProfiler.end(PROFILE_ID + 33, __start);
             return memUTF8(infoLog, length.get(0));
         } finally {
             memFree(infoLog);
@@ -860,7 +953,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBooleani_v(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetBooleani_v">Reference Page</a> */
@@ -869,7 +964,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             ByteBuffer data = stack.calloc(1);
+            long __start = FunctionProfiler.start();
             nglGetBooleani_v(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 34, __start);
             return data.get(0) != 0;
         } finally {
             stack.setPointer(stackPointer);
@@ -900,7 +997,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetMultisamplefv(pname, index, memAddress(val));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetMultisample">Reference Page</a> */
@@ -909,7 +1008,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer val = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetMultisamplefv(pname, index, memAddress(val));
+            FunctionProfiler.end(PROFILE_ID + 35, __start);
             return val.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -930,7 +1031,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexLevelParameteriv(target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTexLevelParameter">Reference Page</a> */
@@ -939,7 +1042,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexLevelParameteriv(target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 36, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -955,7 +1060,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexLevelParameterfv(target, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTexLevelParameter">Reference Page</a> */
@@ -964,7 +1071,9 @@ public class GLES31 extends GLES30 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetTexLevelParameterfv(target, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 37, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1007,7 +1116,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(indirect, (4 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, indirect, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1021,7 +1132,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(indirect, (5 * 4) >> 2);
         }
+        long __start = FunctionProfiler.start();
         callPV(mode, type, indirect, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -1035,7 +1148,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -1049,7 +1164,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, programInterface, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1063,7 +1180,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, programInterface, index, name.remaining(), length, memAddress(name), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -1077,7 +1196,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, programInterface, index, props.length, props, params.length, length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -1090,7 +1211,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1103,7 +1226,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipelines.length, pipelines, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1117,7 +1242,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pipeline, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1130,7 +1257,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1143,7 +1272,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1156,7 +1287,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1169,7 +1302,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1182,7 +1317,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1195,7 +1332,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1208,7 +1347,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1221,7 +1362,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1234,7 +1377,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1247,7 +1392,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 1, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1260,7 +1407,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 3, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -1273,7 +1422,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1286,7 +1437,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 2, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -1299,7 +1452,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 9, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -1312,7 +1467,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 4, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -1325,7 +1482,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -1338,7 +1497,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /**
@@ -1351,7 +1512,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /**
@@ -1364,7 +1527,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -1377,7 +1542,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -1390,7 +1557,9 @@ public class GLES31 extends GLES30 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -1404,7 +1573,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pipeline, infoLog.remaining(), length, memAddress(infoLog), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -1418,7 +1589,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(val, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(pname, index, val, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /**
@@ -1432,7 +1605,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -1446,7 +1621,9 @@ public class GLES31 extends GLES30 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
 }
\ No newline at end of file
@@ -408,6 +408,8 @@ public class GLES32 extends GLES31 {
         GL_INT_SAMPLER_2D_MULTISAMPLE_ARRAY          = 0x910C,
         GL_UNSIGNED_INT_SAMPLER_2D_MULTISAMPLE_ARRAY = 0x910D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GLES32.class, "glDebugMessageControl,glDebugMessageInsert,glDebugMessageCallback,glGetDebugMessageLog,glGetPointerv,glPushDebugGroup,glObjectLabel,glGetObjectLabel,glObjectPtrLabel,glGetObjectPtrLabel,glDrawElementsBaseVertex,glDrawRangeElementsBaseVertex,glDrawElementsInstancedBaseVertex,glReadnPixels,glGetnUniformfv,glGetnUniformiv,glGetnUniformuiv,glTexParameterIiv,glTexParameterIuiv,glGetTexParameterIiv,glGetTexParameterIuiv,glSamplerParameterIiv,glSamplerParameterIuiv,glGetSamplerParameterIiv,glGetSamplerParameterIuiv");
+
     static { GLES.initialize(); }
 
     protected GLES32() {
@@ -492,7 +494,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glDebugMessageControl">Reference Page</a>
      */
     public static void glDebugMessageControl(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLenum") int severity, @NativeType("GLuint const *") IntBuffer ids, @NativeType("GLboolean") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageControl(source, type, severity, ids.remaining(), memAddress(ids), enabled);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -533,7 +537,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDebugMessageControl(source, type, severity, 1, memAddress(ids), enabled);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -569,7 +575,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glDebugMessageInsert">Reference Page</a>
      */
     public static void glDebugMessageInsert(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLuint") int id, @NativeType("GLenum") int severity, @NativeType("GLchar const *") ByteBuffer message) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageInsert(source, type, id, severity, message.remaining(), memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -597,7 +605,9 @@ public class GLES32 extends GLES31 {
         try {
             int messageEncodedLength = stack.nUTF8(message, false);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglDebugMessageInsert(source, type, id, severity, messageEncodedLength, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -642,7 +652,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glDebugMessageCallback">Reference Page</a>
      */
     public static void glDebugMessageCallback(@Nullable @NativeType("GLDEBUGPROC") GLDebugMessageCallbackI callback, @NativeType("void const *") long userParam) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageCallback(memAddressSafe(callback), userParam);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetDebugMessageLog ] ---
@@ -697,7 +709,8 @@ public class GLES32 extends GLES31 {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return nglGetDebugMessageLog(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetDebugMessageLog(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog)));
     }
 
     // --- [ glGetPointerv ] ---
@@ -709,7 +722,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPointerv(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetPointerv">Reference Page</a> */
@@ -718,7 +733,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetPointerv(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -754,7 +771,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glPushDebugGroup">Reference Page</a>
      */
     public static void glPushDebugGroup(@NativeType("GLenum") int source, @NativeType("GLuint") int id, @NativeType("GLchar const *") ByteBuffer message) {
+        long __start = FunctionProfiler.start();
         nglPushDebugGroup(source, id, message.remaining(), memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -781,7 +800,9 @@ public class GLES32 extends GLES31 {
         try {
             int messageEncodedLength = stack.nUTF8(message, false);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglPushDebugGroup(source, id, messageEncodedLength, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -822,7 +843,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glObjectLabel">Reference Page</a>
      */
     public static void glObjectLabel(@NativeType("GLenum") int identifier, @NativeType("GLuint") int name, @NativeType("GLchar const *") ByteBuffer label) {
+        long __start = FunctionProfiler.start();
         nglObjectLabel(identifier, name, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -839,7 +862,9 @@ public class GLES32 extends GLES31 {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglObjectLabel(identifier, name, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -868,7 +893,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectLabel(identifier, name, label.remaining(), memAddressSafe(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -886,7 +913,9 @@ public class GLES32 extends GLES31 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectLabel(identifier, name, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -927,7 +956,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(ptr);
         }
+        long __start = FunctionProfiler.start();
         nglObjectPtrLabel(ptr, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -946,7 +977,9 @@ public class GLES32 extends GLES31 {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglObjectPtrLabel(ptr, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -975,7 +1008,9 @@ public class GLES32 extends GLES31 {
             check(ptr);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectPtrLabel(ptr, label.remaining(), memAddressSafe(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -995,7 +1030,9 @@ public class GLES32 extends GLES31 {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectPtrLabel(ptr, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1061,27 +1098,37 @@ public class GLES32 extends GLES31 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsBaseVertex">Reference Page</a> */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, count, type, indices, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsBaseVertex">Reference Page</a> */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsBaseVertex">Reference Page</a> */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsBaseVertex">Reference Page</a> */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsBaseVertex">Reference Page</a> */
     public static void glDrawElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsBaseVertex(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glDrawRangeElementsBaseVertex ] ---
@@ -1090,27 +1137,37 @@ public class GLES32 extends GLES31 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElementsBaseVertex">Reference Page</a> */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElementsBaseVertex">Reference Page</a> */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElementsBaseVertex">Reference Page</a> */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ByteBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElementsBaseVertex">Reference Page</a> */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") ShortBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawRangeElementsBaseVertex">Reference Page</a> */
     public static void glDrawRangeElementsBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLuint") int start, @NativeType("GLuint") int end, @NativeType("void const *") IntBuffer indices, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawRangeElementsBaseVertex(mode, start, end, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), basevertex);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glDrawElementsInstancedBaseVertex ] ---
@@ -1119,27 +1176,37 @@ public class GLES32 extends GLES31 {
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstancedBaseVertex">Reference Page</a> */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, count, type, indices, instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstancedBaseVertex">Reference Page</a> */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining() >> GLESChecks.typeToByteShift(type), type, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstancedBaseVertex">Reference Page</a> */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining(), GLES20.GL_UNSIGNED_BYTE, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstancedBaseVertex">Reference Page</a> */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining(), GLES20.GL_UNSIGNED_SHORT, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glDrawElementsInstancedBaseVertex">Reference Page</a> */
     public static void glDrawElementsInstancedBaseVertex(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices, @NativeType("GLsizei") int instancecount, @NativeType("GLint") int basevertex) {
+        long __start = FunctionProfiler.start();
         nglDrawElementsInstancedBaseVertex(mode, indices.remaining(), GLES20.GL_UNSIGNED_INT, memAddress(indices), instancecount, basevertex);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glFramebufferTexture ] ---
@@ -1235,7 +1302,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1252,7 +1321,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1269,7 +1340,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining() << 1, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1286,7 +1359,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1303,7 +1378,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glReadnPixels">Reference Page</a>
      */
     public static void glReadnPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixels(x, y, width, height, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glGetnUniformfv ] ---
@@ -1325,7 +1402,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformfv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformfv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1341,7 +1420,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformfv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 14, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1367,7 +1448,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformiv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1383,7 +1466,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformiv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1409,7 +1494,9 @@ public class GLES32 extends GLES31 {
      * @see <a target="_blank" href="http://docs.gl/es3/glGetUniform">Reference Page</a>
      */
     public static void glGetnUniformuiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformuiv(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1425,7 +1512,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformuiv(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 16, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1451,7 +1540,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexParameter">Reference Page</a> */
@@ -1459,7 +1550,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 17, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1474,7 +1567,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIuiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glTexParameter">Reference Page</a> */
@@ -1482,7 +1577,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIuiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 18, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1497,7 +1594,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTexParameter">Reference Page</a> */
@@ -1506,7 +1605,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1522,7 +1623,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIuiv(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetTexParameter">Reference Page</a> */
@@ -1531,7 +1634,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIuiv(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 20, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1547,7 +1652,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glSamplerParameter">Reference Page</a> */
@@ -1555,7 +1662,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglSamplerParameterIiv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 21, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1570,7 +1679,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIuiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glSamplerParameter">Reference Page</a> */
@@ -1578,7 +1689,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglSamplerParameterIuiv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 22, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1593,7 +1706,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetSamplerParameter">Reference Page</a> */
@@ -1602,7 +1717,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIiv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1618,7 +1735,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIuiv(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** <a target="_blank" href="http://docs.gl/es3/glGetSamplerParameter">Reference Page</a> */
@@ -1627,7 +1746,9 @@ public class GLES32 extends GLES31 {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIuiv(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 24, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1659,7 +1780,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(source, type, severity, ids.length, ids, enabled, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -1678,7 +1801,8 @@ public class GLES32 extends GLES31 {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress));
     }
 
     /**
@@ -1692,7 +1816,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(identifier, name, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1707,7 +1833,9 @@ public class GLES32 extends GLES31 {
             check(ptr);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(ptr, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1720,7 +1848,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 1, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1733,7 +1863,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1746,7 +1878,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -1759,7 +1893,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -1772,7 +1908,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1785,7 +1923,9 @@ public class GLES32 extends GLES31 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -1799,7 +1939,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -1813,7 +1955,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -1827,7 +1971,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -1841,7 +1987,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -1855,7 +2003,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1869,7 +2019,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -1883,7 +2035,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /**
@@ -1897,7 +2051,9 @@ public class GLES32 extends GLES31 {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
 }
\ No newline at end of file
@@ -80,6 +80,8 @@ public class INTELPerformanceQuery {
     /** Accepted by the {@code pname} parameter of GetBooleanv. */
     public static final int GL_PERFQUERY_GPA_EXTENDED_COUNTERS_INTEL = 0x9500;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELPerformanceQuery.class, "glCreatePerfQueryINTEL,glGetFirstPerfQueryIdINTEL,glGetNextPerfQueryIdINTEL,glGetPerfCounterInfoINTEL,glGetPerfQueryDataINTEL,glGetPerfQueryIdByNameINTEL,glGetPerfQueryInfoINTEL");
+
     static { GLES.initialize(); }
 
     protected INTELPerformanceQuery() {
@@ -106,7 +108,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(queryHandle, 1);
         }
+        long __start = FunctionProfiler.start();
         nglCreatePerfQueryINTEL(queryId, memAddress(queryHandle));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     @NativeType("void")
@@ -114,7 +118,9 @@ public class INTELPerformanceQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer queryHandle = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglCreatePerfQueryINTEL(queryId, memAddress(queryHandle));
+            FunctionProfiler.end(PROFILE_ID, __start);
             return queryHandle.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -137,7 +143,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFirstPerfQueryIdINTEL(memAddress(queryId));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -145,7 +153,9 @@ public class INTELPerformanceQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer queryId = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFirstPerfQueryIdINTEL(memAddress(queryId));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return queryId.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -160,7 +170,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(nextQueryId, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetNextPerfQueryIdINTEL(queryId, memAddress(nextQueryId));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -168,7 +180,9 @@ public class INTELPerformanceQuery {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer nextQueryId = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetNextPerfQueryIdINTEL(queryId, memAddress(nextQueryId));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return nextQueryId.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -187,7 +201,9 @@ public class INTELPerformanceQuery {
             check(counterDataTypeEnum, 1);
             check(rawCounterMaxValue, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfCounterInfoINTEL(queryId, counterId, counterName.remaining(), memAddress(counterName), counterDesc.remaining(), memAddress(counterDesc), memAddress(counterOffset), memAddress(counterDataSize), memAddress(counterTypeEnum), memAddress(counterDataTypeEnum), memAddress(rawCounterMaxValue));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glGetPerfQueryDataINTEL ] ---
@@ -198,7 +214,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(bytesWritten, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfQueryDataINTEL(queryHandle, flags, data.remaining(), memAddress(data), memAddress(bytesWritten));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glGetPerfQueryIdByNameINTEL ] ---
@@ -210,7 +228,9 @@ public class INTELPerformanceQuery {
             checkNT1(queryName);
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfQueryIdByNameINTEL(memAddress(queryName), memAddress(queryId));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     public static void glGetPerfQueryIdByNameINTEL(@NativeType("GLchar *") CharSequence queryName, @NativeType("GLuint *") IntBuffer queryId) {
@@ -221,7 +241,9 @@ public class INTELPerformanceQuery {
         try {
             stack.nASCII(queryName, true);
             long queryNameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglGetPerfQueryIdByNameINTEL(queryNameEncoded, memAddress(queryId));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -234,7 +256,9 @@ public class INTELPerformanceQuery {
             stack.nASCII(queryName, true);
             long queryNameEncoded = stack.getPointerAddress();
             IntBuffer queryId = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetPerfQueryIdByNameINTEL(queryNameEncoded, memAddress(queryId));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return queryId.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -252,7 +276,9 @@ public class INTELPerformanceQuery {
             check(noInstances, 1);
             check(capsMask, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPerfQueryInfoINTEL(queryId, queryName.remaining(), memAddress(queryName), memAddress(dataSize), memAddress(noCounters), memAddress(noInstances), memAddress(capsMask));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glCreatePerfQueryINTEL CreatePerfQueryINTEL} */
@@ -262,7 +288,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(queryHandle, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(queryId, queryHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetFirstPerfQueryIdINTEL GetFirstPerfQueryIdINTEL} */
@@ -272,7 +300,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(queryId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetNextPerfQueryIdINTEL GetNextPerfQueryIdINTEL} */
@@ -282,7 +312,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(nextQueryId, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(queryId, nextQueryId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetPerfCounterInfoINTEL GetPerfCounterInfoINTEL} */
@@ -296,7 +328,9 @@ public class INTELPerformanceQuery {
             check(counterDataTypeEnum, 1);
             check(rawCounterMaxValue, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPPPPV(queryId, counterId, counterName.remaining(), memAddress(counterName), counterDesc.remaining(), memAddress(counterDesc), counterOffset, counterDataSize, counterTypeEnum, counterDataTypeEnum, rawCounterMaxValue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glGetPerfQueryDataINTEL GetPerfQueryDataINTEL} */
@@ -306,7 +340,9 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(bytesWritten, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(queryHandle, flags, data.remaining(), memAddress(data), bytesWritten, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetPerfQueryIdByNameINTEL GetPerfQueryIdByNameINTEL} */
@@ -317,7 +353,9 @@ public class INTELPerformanceQuery {
             checkNT1(queryName);
             check(queryId, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(memAddress(queryName), queryId, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetPerfQueryIdByNameINTEL GetPerfQueryIdByNameINTEL} */
@@ -331,7 +369,9 @@ public class INTELPerformanceQuery {
         try {
             stack.nASCII(queryName, true);
             long queryNameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             callPPV(queryNameEncoded, queryId, __functionAddress);
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -347,7 +387,9 @@ public class INTELPerformanceQuery {
             check(noInstances, 1);
             check(capsMask, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPPPV(queryId, queryName.remaining(), memAddress(queryName), dataSize, noCounters, noInstances, capsMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
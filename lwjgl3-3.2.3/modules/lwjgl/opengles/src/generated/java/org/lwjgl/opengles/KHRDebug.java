@@ -162,6 +162,8 @@ public class KHRDebug {
         GL_PROGRAM_PIPELINE_KHR = 0x82E4,
         GL_SAMPLER_KHR          = 0x82E6;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDebug.class, "glDebugMessageControlKHR,glDebugMessageInsertKHR,glDebugMessageCallbackKHR,glGetDebugMessageLogKHR,glGetPointervKHR,glPushDebugGroupKHR,glObjectLabelKHR,glGetObjectLabelKHR,glObjectPtrLabelKHR,glGetObjectPtrLabelKHR");
+
     static { GLES.initialize(); }
 
     protected KHRDebug() {
@@ -219,7 +221,9 @@ public class KHRDebug {
      * @param enabled  whether the selected messages should be enabled or disabled
      */
     public static void glDebugMessageControlKHR(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLenum") int severity, @Nullable @NativeType("GLuint const *") IntBuffer ids, @NativeType("GLboolean") boolean enabled) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageControlKHR(source, type, severity, remainingSafe(ids), memAddressSafe(ids), enabled);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -258,7 +262,9 @@ public class KHRDebug {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer ids = stack.ints(id);
+            long __start = FunctionProfiler.start();
             nglDebugMessageControlKHR(source, type, severity, 1, memAddress(ids), enabled);
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -292,7 +298,9 @@ public class KHRDebug {
      * @param message  a character array containing the message to insert
      */
     public static void glDebugMessageInsertKHR(@NativeType("GLenum") int source, @NativeType("GLenum") int type, @NativeType("GLuint") int id, @NativeType("GLenum") int severity, @NativeType("GLchar const *") ByteBuffer message) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageInsertKHR(source, type, id, severity, message.remaining(), memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -318,7 +326,9 @@ public class KHRDebug {
         try {
             int messageEncodedLength = stack.nUTF8(message, false);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglDebugMessageInsertKHR(source, type, id, severity, messageEncodedLength, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -361,7 +371,9 @@ public class KHRDebug {
      * @param userParam a user supplied pointer that will be passed on each invocation of {@code callback}
      */
     public static void glDebugMessageCallbackKHR(@Nullable @NativeType("GLDEBUGPROCKHR") GLDebugMessageKHRCallbackI callback, @NativeType("void const *") long userParam) {
+        long __start = FunctionProfiler.start();
         nglDebugMessageCallbackKHR(memAddressSafe(callback), userParam);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glGetDebugMessageLogKHR ] ---
@@ -414,7 +426,8 @@ public class KHRDebug {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return nglGetDebugMessageLogKHR(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nglGetDebugMessageLogKHR(count, remainingSafe(messageLog), memAddressSafe(sources), memAddressSafe(types), memAddressSafe(ids), memAddressSafe(severities), memAddressSafe(lengths), memAddressSafe(messageLog)));
     }
 
     // --- [ glGetPointervKHR ] ---
@@ -425,7 +438,9 @@ public class KHRDebug {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPointervKHR(pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -433,7 +448,9 @@ public class KHRDebug {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetPointervKHR(pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -467,7 +484,9 @@ public class KHRDebug {
      * @param message a string containing the message to be sent to the debug output stream
      */
     public static void glPushDebugGroupKHR(@NativeType("GLenum") int source, @NativeType("GLuint") int id, @NativeType("GLchar const *") ByteBuffer message) {
+        long __start = FunctionProfiler.start();
         nglPushDebugGroupKHR(source, id, message.remaining(), memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -492,7 +511,9 @@ public class KHRDebug {
         try {
             int messageEncodedLength = stack.nUTF8(message, false);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglPushDebugGroupKHR(source, id, messageEncodedLength, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -529,7 +550,9 @@ public class KHRDebug {
      * @param label      a string containing the label to assign to the object
      */
     public static void glObjectLabelKHR(@NativeType("GLenum") int identifier, @NativeType("GLuint") int name, @NativeType("GLchar const *") ByteBuffer label) {
+        long __start = FunctionProfiler.start();
         nglObjectLabelKHR(identifier, name, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -544,7 +567,9 @@ public class KHRDebug {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglObjectLabelKHR(identifier, name, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -571,7 +596,9 @@ public class KHRDebug {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectLabelKHR(identifier, name, label.remaining(), memAddressSafe(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -587,7 +614,9 @@ public class KHRDebug {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectLabelKHR(identifier, name, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -624,7 +653,9 @@ public class KHRDebug {
         if (CHECKS) {
             check(ptr);
         }
+        long __start = FunctionProfiler.start();
         nglObjectPtrLabelKHR(ptr, label.remaining(), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -641,7 +672,9 @@ public class KHRDebug {
         try {
             int labelEncodedLength = stack.nUTF8(label, false);
             long labelEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nglObjectPtrLabelKHR(ptr, labelEncodedLength, labelEncoded);
+            FunctionProfiler.end(PROFILE_ID + 8, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -668,7 +701,9 @@ public class KHRDebug {
             check(ptr);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetObjectPtrLabelKHR(ptr, label.remaining(), memAddressSafe(length), memAddress(label));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -686,7 +721,9 @@ public class KHRDebug {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer label = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetObjectPtrLabelKHR(ptr, bufSize, memAddress(length), memAddress(label));
+            FunctionProfiler.end(PROFILE_ID + 9, __start);
             return memUTF8(label, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -709,7 +746,9 @@ public class KHRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(source, type, severity, lengthSafe(ids), ids, enabled, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetDebugMessageLogKHR GetDebugMessageLogKHR} */
@@ -724,7 +763,8 @@ public class KHRDebug {
             checkSafe(severities, count);
             checkSafe(lengths, count);
         }
-        return callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPPPPI(count, remainingSafe(messageLog), sources, types, ids, severities, lengths, memAddressSafe(messageLog), __functionAddress));
     }
 
     /** Array version of: {@link #glGetObjectLabelKHR GetObjectLabelKHR} */
@@ -734,7 +774,9 @@ public class KHRDebug {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(identifier, name, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #glGetObjectPtrLabelKHR GetObjectPtrLabelKHR} */
@@ -745,7 +787,9 @@ public class KHRDebug {
             check(ptr);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(ptr, label.remaining(), length, memAddress(label), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
 }
\ No newline at end of file
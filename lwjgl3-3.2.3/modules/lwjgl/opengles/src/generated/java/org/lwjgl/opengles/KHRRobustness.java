@@ -72,6 +72,8 @@ public class KHRRobustness {
     /** Returned by {@link GLES20#glGetError GetError}. */
     public static final int GL_CONTEXT_LOST_KHR = 0x507;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRRobustness.class, "glReadnPixelsKHR,glGetnUniformfvKHR,glGetnUniformivKHR,glGetnUniformuivKHR");
+
     static { GLES.initialize(); }
 
     protected KHRRobustness() {
@@ -146,7 +148,9 @@ public class KHRRobustness {
      * @param pixels  a buffer in which to place the returned pixel data
      */
     public static void glReadnPixelsKHR(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("GLsizei") int bufSize, @NativeType("void *") long pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsKHR(x, y, width, height, format, type, bufSize, pixels);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -161,7 +165,9 @@ public class KHRRobustness {
      * @param pixels a buffer in which to place the returned pixel data
      */
     public static void glReadnPixelsKHR(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsKHR(x, y, width, height, format, type, pixels.remaining(), memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -176,7 +182,9 @@ public class KHRRobustness {
      * @param pixels a buffer in which to place the returned pixel data
      */
     public static void glReadnPixelsKHR(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsKHR(x, y, width, height, format, type, pixels.remaining() << 1, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -191,7 +199,9 @@ public class KHRRobustness {
      * @param pixels a buffer in which to place the returned pixel data
      */
     public static void glReadnPixelsKHR(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsKHR(x, y, width, height, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -206,7 +216,9 @@ public class KHRRobustness {
      * @param pixels a buffer in which to place the returned pixel data
      */
     public static void glReadnPixelsKHR(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
+        long __start = FunctionProfiler.start();
         nglReadnPixelsKHR(x, y, width, height, format, type, pixels.remaining() << 2, memAddress(pixels));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetnUniformfvKHR ] ---
@@ -226,7 +238,9 @@ public class KHRRobustness {
      * @param params   the buffer in which to place the returned data
      */
     public static void glGetnUniformfvKHR(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformfvKHR(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -240,7 +254,9 @@ public class KHRRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformfvKHR(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -264,7 +280,9 @@ public class KHRRobustness {
      * @param params   the buffer in which to place the returned data
      */
     public static void glGetnUniformivKHR(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformivKHR(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -278,7 +296,9 @@ public class KHRRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformivKHR(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -302,7 +322,9 @@ public class KHRRobustness {
      * @param params   the buffer in which to place the returned data
      */
     public static void glGetnUniformuivKHR(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetnUniformuivKHR(program, location, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -316,7 +338,9 @@ public class KHRRobustness {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer params = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetnUniformuivKHR(program, location, 1, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -329,7 +353,9 @@ public class KHRRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 1, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsKHR ReadnPixelsKHR} */
@@ -338,7 +364,9 @@ public class KHRRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glReadnPixelsKHR ReadnPixelsKHR} */
@@ -347,7 +375,9 @@ public class KHRRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(x, y, width, height, format, type, pixels.length << 2, pixels, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetnUniformfvKHR GetnUniformfvKHR} */
@@ -356,7 +386,9 @@ public class KHRRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetnUniformivKHR GetnUniformivKHR} */
@@ -365,7 +397,9 @@ public class KHRRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetnUniformuivKHR GetnUniformuivKHR} */
@@ -374,7 +408,9 @@ public class KHRRobustness {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class NVBindlessTexture {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVBindlessTexture.class, "glUniformHandleui64vNV,glProgramUniformHandleui64vNV");
+
     static { GLES.initialize(); }
 
     protected NVBindlessTexture() {
@@ -98,7 +100,9 @@ public class NVBindlessTexture {
     public static native void nglUniformHandleui64vNV(int location, int count, long values);
 
     public static void glUniformHandleui64vNV(@NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer values) {
+        long __start = FunctionProfiler.start();
         nglUniformHandleui64vNV(location, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramUniformHandleui64NV ] ---
@@ -110,7 +114,9 @@ public class NVBindlessTexture {
     public static native void nglProgramUniformHandleui64vNV(int program, int location, int count, long values);
 
     public static void glProgramUniformHandleui64vNV(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLuint64 const *") LongBuffer values) {
+        long __start = FunctionProfiler.start();
         nglProgramUniformHandleui64vNV(program, location, values.remaining(), memAddress(values));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glIsTextureHandleResidentNV ] ---
@@ -129,7 +135,9 @@ public class NVBindlessTexture {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glProgramUniformHandleui64vNV ProgramUniformHandleui64vNV} */
@@ -138,7 +146,9 @@ public class NVBindlessTexture {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, values.length, values, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
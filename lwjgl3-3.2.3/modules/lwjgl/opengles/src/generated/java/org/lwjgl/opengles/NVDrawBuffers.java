@@ -64,6 +64,8 @@ public class NVDrawBuffers {
         GL_COLOR_ATTACHMENT14_NV = 0x8CEE,
         GL_COLOR_ATTACHMENT15_NV = 0x8CEF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVDrawBuffers.class, "glDrawBuffersNV");
+
     static { GLES.initialize(); }
 
     protected NVDrawBuffers() {
@@ -81,14 +83,18 @@ public class NVDrawBuffers {
     public static native void nglDrawBuffersNV(int n, long bufs);
 
     public static void glDrawBuffersNV(@NativeType("GLenum const *") IntBuffer bufs) {
+        long __start = FunctionProfiler.start();
         nglDrawBuffersNV(bufs.remaining(), memAddress(bufs));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDrawBuffersNV(@NativeType("GLenum const *") int buf) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer bufs = stack.ints(buf);
+            long __start = FunctionProfiler.start();
             nglDrawBuffersNV(1, memAddress(bufs));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -100,7 +106,9 @@ public class NVDrawBuffers {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(bufs.length, bufs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class NVFence {
         GL_FENCE_STATUS_NV    = 0x84F3,
         GL_FENCE_CONDITION_NV = 0x84F4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVFence.class, "glDeleteFencesNV,glGenFencesNV,glGetFenceivNV");
+
     static { GLES.initialize(); }
 
     protected NVFence() {
@@ -60,14 +62,18 @@ public class NVFence {
     public static native void nglDeleteFencesNV(int n, long fences);
 
     public static void glDeleteFencesNV(@NativeType("GLuint const *") IntBuffer fences) {
+        long __start = FunctionProfiler.start();
         nglDeleteFencesNV(fences.remaining(), memAddress(fences));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDeleteFencesNV(@NativeType("GLuint const *") int fence) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer fences = stack.ints(fence);
+            long __start = FunctionProfiler.start();
             nglDeleteFencesNV(1, memAddress(fences));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -78,7 +84,9 @@ public class NVFence {
     public static native void nglGenFencesNV(int n, long fences);
 
     public static void glGenFencesNV(@NativeType("GLuint *") IntBuffer fences) {
+        long __start = FunctionProfiler.start();
         nglGenFencesNV(fences.remaining(), memAddress(fences));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -86,7 +94,9 @@ public class NVFence {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer fences = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenFencesNV(1, memAddress(fences));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return fences.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -111,7 +121,9 @@ public class NVFence {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFenceivNV(fence, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -119,7 +131,9 @@ public class NVFence {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetFenceivNV(fence, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -140,7 +154,9 @@ public class NVFence {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(fences.length, fences, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGenFencesNV GenFencesNV} */
@@ -149,7 +165,9 @@ public class NVFence {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(fences.length, fences, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetFenceivNV GetFenceivNV} */
@@ -159,7 +177,9 @@ public class NVFence {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(fence, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -67,6 +67,8 @@ public class NVFramebufferMixedSamples {
         GL_COVERAGE_MODULATION_NV                = 0x9332,
         GL_COVERAGE_MODULATION_TABLE_SIZE_NV     = 0x9333;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVFramebufferMixedSamples.class, "glCoverageModulationTableNV,glGetCoverageModulationTableNV");
+
     static { GLES.initialize(); }
 
     protected NVFramebufferMixedSamples() {
@@ -90,7 +92,9 @@ public class NVFramebufferMixedSamples {
     public static native void nglCoverageModulationTableNV(int n, long v);
 
     public static void glCoverageModulationTableNV(@NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglCoverageModulationTableNV(v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetCoverageModulationTableNV ] ---
@@ -98,7 +102,9 @@ public class NVFramebufferMixedSamples {
     public static native void nglGetCoverageModulationTableNV(int bufsize, long v);
 
     public static void glGetCoverageModulationTableNV(@NativeType("GLfloat *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglGetCoverageModulationTableNV(v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glCoverageModulationNV ] ---
@@ -111,7 +117,9 @@ public class NVFramebufferMixedSamples {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetCoverageModulationTableNV GetCoverageModulationTableNV} */
@@ -120,7 +128,9 @@ public class NVFramebufferMixedSamples {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
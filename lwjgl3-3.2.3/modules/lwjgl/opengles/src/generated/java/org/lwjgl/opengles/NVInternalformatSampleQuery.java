@@ -45,6 +45,8 @@ public class NVInternalformatSampleQuery {
         GL_SUPERSAMPLE_SCALE_Y_NV = 0x9373,
         GL_CONFORMANT_NV          = 0x9374;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVInternalformatSampleQuery.class, "glGetInternalformatSampleivNV");
+
     static { GLES.initialize(); }
 
     protected NVInternalformatSampleQuery() {
@@ -62,7 +64,9 @@ public class NVInternalformatSampleQuery {
     public static native void nglGetInternalformatSampleivNV(int target, int internalformat, int samples, int pname, int bufSize, long params);
 
     public static void glGetInternalformatSampleivNV(@NativeType("GLenum") int target, @NativeType("GLenum") int internalformat, @NativeType("GLsizei") int samples, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetInternalformatSampleivNV(target, internalformat, samples, pname, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetInternalformatSampleivNV GetInternalformatSampleivNV} */
@@ -71,7 +75,9 @@ public class NVInternalformatSampleQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, internalformat, samples, pname, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
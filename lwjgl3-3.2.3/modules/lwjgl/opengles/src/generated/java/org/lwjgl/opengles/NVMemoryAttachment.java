@@ -53,6 +53,8 @@ public class NVMemoryAttachment {
         GL_MAX_DETACHED_TEXTURES_NV = 0x95AC,
         GL_MAX_DETACHED_BUFFERS_NV  = 0x95AD;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVMemoryAttachment.class, "glGetMemoryObjectDetachedResourcesuivNV");
+
     static { GLES.initialize(); }
 
     protected NVMemoryAttachment() {
@@ -71,7 +73,9 @@ public class NVMemoryAttachment {
     public static native void nglGetMemoryObjectDetachedResourcesuivNV(int memory, int pname, int first, int count, long params);
 
     public static void glGetMemoryObjectDetachedResourcesuivNV(@NativeType("GLuint") int memory, @NativeType("GLenum") int pname, @NativeType("GLint") int first, @NativeType("GLuint *") IntBuffer params) {
+        long __start = FunctionProfiler.start();
         nglGetMemoryObjectDetachedResourcesuivNV(memory, pname, first, params.remaining(), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glResetMemoryObjectParameterNV ] ---
@@ -100,7 +104,9 @@ public class NVMemoryAttachment {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(memory, pname, first, params.length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -31,6 +31,8 @@ public class NVNonSquareMatrices {
         GL_FLOAT_MAT4x2_NV = 0x8B69,
         GL_FLOAT_MAT4x3_NV = 0x8B6A;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVNonSquareMatrices.class, "glUniformMatrix2x3fvNV,glUniformMatrix3x2fvNV,glUniformMatrix2x4fvNV,glUniformMatrix4x2fvNV,glUniformMatrix3x4fvNV,glUniformMatrix4x3fvNV");
+
     static { GLES.initialize(); }
 
     protected NVNonSquareMatrices() {
@@ -49,7 +51,9 @@ public class NVNonSquareMatrices {
     public static native void nglUniformMatrix2x3fvNV(int location, int count, boolean transpose, long value);
 
     public static void glUniformMatrix2x3fvNV(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x3fvNV(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glUniformMatrix3x2fvNV ] ---
@@ -57,7 +61,9 @@ public class NVNonSquareMatrices {
     public static native void nglUniformMatrix3x2fvNV(int location, int count, boolean transpose, long value);
 
     public static void glUniformMatrix3x2fvNV(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x2fvNV(location, value.remaining() / 6, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glUniformMatrix2x4fvNV ] ---
@@ -65,7 +71,9 @@ public class NVNonSquareMatrices {
     public static native void nglUniformMatrix2x4fvNV(int location, int count, boolean transpose, long value);
 
     public static void glUniformMatrix2x4fvNV(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix2x4fvNV(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glUniformMatrix4x2fvNV ] ---
@@ -73,7 +81,9 @@ public class NVNonSquareMatrices {
     public static native void nglUniformMatrix4x2fvNV(int location, int count, boolean transpose, long value);
 
     public static void glUniformMatrix4x2fvNV(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x2fvNV(location, value.remaining() >> 3, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glUniformMatrix3x4fvNV ] ---
@@ -81,7 +91,9 @@ public class NVNonSquareMatrices {
     public static native void nglUniformMatrix3x4fvNV(int location, int count, boolean transpose, long value);
 
     public static void glUniformMatrix3x4fvNV(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix3x4fvNV(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glUniformMatrix4x3fvNV ] ---
@@ -89,7 +101,9 @@ public class NVNonSquareMatrices {
     public static native void nglUniformMatrix4x3fvNV(int location, int count, boolean transpose, long value);
 
     public static void glUniformMatrix4x3fvNV(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
+        long __start = FunctionProfiler.start();
         nglUniformMatrix4x3fvNV(location, value.remaining() / 12, transpose, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix2x3fvNV UniformMatrix2x3fvNV} */
@@ -98,7 +112,9 @@ public class NVNonSquareMatrices {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix3x2fvNV UniformMatrix3x2fvNV} */
@@ -107,7 +123,9 @@ public class NVNonSquareMatrices {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 6, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix2x4fvNV UniformMatrix2x4fvNV} */
@@ -116,7 +134,9 @@ public class NVNonSquareMatrices {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix4x2fvNV UniformMatrix4x2fvNV} */
@@ -125,7 +145,9 @@ public class NVNonSquareMatrices {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length >> 3, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix3x4fvNV UniformMatrix3x4fvNV} */
@@ -134,7 +156,9 @@ public class NVNonSquareMatrices {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glUniformMatrix4x3fvNV UniformMatrix4x3fvNV} */
@@ -143,7 +167,9 @@ public class NVNonSquareMatrices {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(location, value.length / 12, transpose, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -332,6 +332,8 @@ public class NVPathRendering {
         GL_OBJECT_LINEAR_NV = 0x2401,
         GL_CONSTANT_NV      = 0x8576;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVPathRendering.class, "glPathCommandsNV,glPathCoordsNV,glPathSubCommandsNV,glPathSubCoordsNV,glPathStringNV,glPathGlyphsNV,glPathGlyphRangeNV,glPathGlyphIndexArrayNV,glPathMemoryGlyphIndexArrayNV,glWeightPathsNV,glTransformPathNV,glPathParameterivNV,glPathParameterfvNV,glPathDashArrayNV,glStencilFillPathInstancedNV,glStencilStrokePathInstancedNV,glCoverFillPathInstancedNV,glCoverStrokePathInstancedNV,glStencilThenCoverFillPathInstancedNV,glStencilThenCoverStrokePathInstancedNV,glPathGlyphIndexRangeNV,glProgramPathFragmentInputGenNV,glGetPathParameterivNV,glGetPathParameterfvNV,glGetPathCommandsNV,glGetPathCoordsNV,glGetPathDashArrayNV,glGetPathMetricsNV,glGetPathMetricRangeNV,glGetPathSpacingNV,glPointAlongPathNV,glMatrixLoad3x2fNV,glMatrixLoad3x3fNV,glMatrixLoadTranspose3x3fNV,glMatrixMult3x2fNV,glMatrixMult3x3fNV,glMatrixMultTranspose3x3fNV,glGetProgramResourcefvNV");
+
     static { GLES.initialize(); }
 
     protected NVPathRendering() {
@@ -358,17 +360,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCommandsNV(@NativeType("GLuint") int path, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCommandsNV(path, commands.remaining(), memAddress(commands), coords.remaining() >> GLESChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCommandsNV(@NativeType("GLuint") int path, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCommandsNV(path, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 1) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCommandsNV(@NativeType("GLuint") int path, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCommandsNV(path, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 2) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glPathCoordsNV ] ---
@@ -378,17 +386,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCoordsNV(@NativeType("GLuint") int path, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCoordsNV(path, coords.remaining() >> GLESChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCoordsNV(@NativeType("GLuint") int path, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCoordsNV(path, (int)(((long)coords.remaining() << 1) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathCoordsNV(@NativeType("GLuint") int path, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathCoordsNV(path, (int)(((long)coords.remaining() << 2) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glPathSubCommandsNV ] ---
@@ -398,17 +412,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCommandsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int commandStart, @NativeType("GLsizei") int commandsToDelete, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCommandsNV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), coords.remaining() >> GLESChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCommandsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int commandStart, @NativeType("GLsizei") int commandsToDelete, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCommandsNV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 1) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCommandsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int commandStart, @NativeType("GLsizei") int commandsToDelete, @NativeType("GLubyte const *") ByteBuffer commands, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCommandsNV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), (int)(((long)coords.remaining() << 2) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glPathSubCoordsNV ] ---
@@ -418,17 +438,23 @@ public class NVPathRendering {
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCoordsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int coordStart, @NativeType("GLenum") int coordType, @NativeType("void const *") ByteBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCoordsNV(path, coordStart, coords.remaining() >> GLESChecks.typeToByteShift(coordType), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCoordsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int coordStart, @NativeType("GLenum") int coordType, @NativeType("void const *") ShortBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCoordsNV(path, coordStart, (int)(((long)coords.remaining() << 1) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** @param coordType one of:<br><table><tr><td>{@link GLES20#GL_BYTE BYTE}</td><td>{@link GLES20#GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link GLES20#GL_SHORT SHORT}</td><td>{@link GLES20#GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link GLES20#GL_FLOAT FLOAT}</td></tr></table> */
     public static void glPathSubCoordsNV(@NativeType("GLuint") int path, @NativeType("GLsizei") int coordStart, @NativeType("GLenum") int coordType, @NativeType("void const *") FloatBuffer coords) {
+        long __start = FunctionProfiler.start();
         nglPathSubCoordsNV(path, coordStart, (int)(((long)coords.remaining() << 2) >> GLESChecks.typeToByteShift(coordType)), coordType, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glPathStringNV ] ---
@@ -438,7 +464,9 @@ public class NVPathRendering {
 
     /** @param format one of:<br><table><tr><td>{@link #GL_PATH_FORMAT_SVG_NV PATH_FORMAT_SVG_NV}</td><td>{@link #GL_PATH_FORMAT_PS_NV PATH_FORMAT_PS_NV}</td></tr></table> */
     public static void glPathStringNV(@NativeType("GLuint") int path, @NativeType("GLenum") int format, @NativeType("void const *") ByteBuffer pathString) {
+        long __start = FunctionProfiler.start();
         nglPathStringNV(path, format, pathString.remaining(), memAddress(pathString));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glPathGlyphsNV ] ---
@@ -456,7 +484,9 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
+        long __start = FunctionProfiler.start();
         nglPathGlyphsNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, charcodes.remaining() / charcodeTypeToBytes(type), type, memAddress(charcodes), handleMissingGlyphs, pathParameterTemplate, emScale);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glPathGlyphRangeNV ] ---
@@ -473,7 +503,9 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
+        long __start = FunctionProfiler.start();
         nglPathGlyphRangeNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, firstGlyph, numGlyphs, handleMissingGlyphs, pathParameterTemplate, emScale);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ glPathGlyphIndexArrayNV ] ---
@@ -490,7 +522,8 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
-        return nglPathGlyphIndexArrayNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nglPathGlyphIndexArrayNV(firstPathName, fontTarget, memAddress(fontName), fontStyle, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale));
     }
 
     // --- [ glPathMemoryGlyphIndexArrayNV ] ---
@@ -501,7 +534,8 @@ public class NVPathRendering {
     /** @param fontTarget one of:<br><table><tr><td>{@link #GL_STANDARD_FONT_NAME_NV STANDARD_FONT_NAME_NV}</td><td>{@link #GL_SYSTEM_FONT_NAME_NV SYSTEM_FONT_NAME_NV}</td><td>{@link #GL_FILE_NAME_NV FILE_NAME_NV}</td></tr></table> */
     @NativeType("GLenum")
     public static int glPathMemoryGlyphIndexArrayNV(@NativeType("GLuint") int firstPathName, @NativeType("GLenum") int fontTarget, @NativeType("void const *") ByteBuffer fontData, @NativeType("GLsizei") int faceIndex, @NativeType("GLuint") int firstGlyphIndex, @NativeType("GLsizei") int numGlyphs, @NativeType("GLuint") int pathParameterTemplate, @NativeType("GLfloat") float emScale) {
-        return nglPathMemoryGlyphIndexArrayNV(firstPathName, fontTarget, fontData.remaining(), memAddress(fontData), faceIndex, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nglPathMemoryGlyphIndexArrayNV(firstPathName, fontTarget, fontData.remaining(), memAddress(fontData), faceIndex, firstGlyphIndex, numGlyphs, pathParameterTemplate, emScale));
     }
 
     // --- [ glCopyPathNV ] ---
@@ -516,7 +550,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(weights, paths.remaining());
         }
+        long __start = FunctionProfiler.start();
         nglWeightPathsNV(resultPath, paths.remaining(), memAddress(paths), memAddress(weights));
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ glInterpolatePathsNV ] ---
@@ -533,7 +569,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglTransformPathNV(resultPath, srcPath, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ glPathParameterivNV ] ---
@@ -546,7 +584,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglPathParameterivNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ glPathParameteriNV ] ---
@@ -564,7 +604,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglPathParameterfvNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ glPathParameterfNV ] ---
@@ -577,7 +619,9 @@ public class NVPathRendering {
     public static native void nglPathDashArrayNV(int path, int dashCount, long dashArray);
 
     public static void glPathDashArrayNV(@NativeType("GLuint") int path, @NativeType("GLfloat const *") FloatBuffer dashArray) {
+        long __start = FunctionProfiler.start();
         nglPathDashArrayNV(path, dashArray.remaining(), memAddress(dashArray));
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ glGenPathsNV ] ---
@@ -626,7 +670,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilFillPathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ glStencilStrokePathInstancedNV ] ---
@@ -643,7 +689,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilStrokePathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ glPathCoverDepthFuncNV ] ---
@@ -675,7 +723,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglCoverFillPathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ glCoverStrokePathInstancedNV ] ---
@@ -693,7 +743,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglCoverStrokePathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ glStencilThenCoverFillPathNV ] ---
@@ -725,7 +777,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilThenCoverFillPathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ glStencilThenCoverStrokePathInstancedNV ] ---
@@ -743,7 +797,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         nglStencilThenCoverStrokePathInstancedNV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, coverMode, transformType, memAddress(transformValues));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ glPathGlyphIndexRangeNV ] ---
@@ -760,7 +816,8 @@ public class NVPathRendering {
         if (CHECKS) {
             checkNT1(fontName);
         }
-        return nglPathGlyphIndexRangeNV(fontTarget, memAddress(fontName), fontStyle, pathParameterTemplate, emScale, baseAndCount);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nglPathGlyphIndexRangeNV(fontTarget, memAddress(fontName), fontStyle, pathParameterTemplate, emScale, baseAndCount));
     }
 
     // --- [ glProgramPathFragmentInputGenNV ] ---
@@ -771,7 +828,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(coeffs, genModeToElements(genMode) * components);
         }
+        long __start = FunctionProfiler.start();
         nglProgramPathFragmentInputGenNV(program, location, genMode, components, memAddress(coeffs));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ glGetPathParameterivNV ] ---
@@ -784,7 +843,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathParameterivNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** @param pname one of:<br><table><tr><td>{@link #GL_PATH_STROKE_WIDTH_NV PATH_STROKE_WIDTH_NV}</td><td>{@link #GL_PATH_INITIAL_END_CAP_NV PATH_INITIAL_END_CAP_NV}</td><td>{@link #GL_PATH_TERMINAL_END_CAP_NV PATH_TERMINAL_END_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_JOIN_STYLE_NV PATH_JOIN_STYLE_NV}</td><td>{@link #GL_PATH_MITER_LIMIT_NV PATH_MITER_LIMIT_NV}</td><td>{@link #GL_PATH_INITIAL_DASH_CAP_NV PATH_INITIAL_DASH_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_TERMINAL_DASH_CAP_NV PATH_TERMINAL_DASH_CAP_NV}</td><td>{@link #GL_PATH_DASH_OFFSET_NV PATH_DASH_OFFSET_NV}</td><td>{@link #GL_PATH_CLIENT_LENGTH_NV PATH_CLIENT_LENGTH_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_OFFSET_RESET_NV PATH_DASH_OFFSET_RESET_NV}</td><td>{@link #GL_PATH_FILL_MODE_NV PATH_FILL_MODE_NV}</td><td>{@link #GL_PATH_FILL_MASK_NV PATH_FILL_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_FILL_COVER_MODE_NV PATH_FILL_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_COVER_MODE_NV PATH_STROKE_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_MASK_NV PATH_STROKE_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUND_NV PATH_STROKE_BOUND_NV}</td><td>{@link #GL_PATH_COMMAND_COUNT_NV PATH_COMMAND_COUNT_NV}</td><td>{@link #GL_PATH_COORD_COUNT_NV PATH_COORD_COUNT_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_ARRAY_COUNT_NV PATH_DASH_ARRAY_COUNT_NV}</td><td>{@link #GL_PATH_COMPUTED_LENGTH_NV PATH_COMPUTED_LENGTH_NV}</td><td>{@link #GL_PATH_FILL_BOUNDING_BOX_NV PATH_FILL_BOUNDING_BOX_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUNDING_BOX_NV PATH_STROKE_BOUNDING_BOX_NV}</td></tr></table> */
@@ -793,7 +854,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer value = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetPathParameterivNV(path, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 22, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -810,7 +873,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetPathParameterfvNV(path, pname, memAddress(value));
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** @param pname one of:<br><table><tr><td>{@link #GL_PATH_STROKE_WIDTH_NV PATH_STROKE_WIDTH_NV}</td><td>{@link #GL_PATH_INITIAL_END_CAP_NV PATH_INITIAL_END_CAP_NV}</td><td>{@link #GL_PATH_TERMINAL_END_CAP_NV PATH_TERMINAL_END_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_JOIN_STYLE_NV PATH_JOIN_STYLE_NV}</td><td>{@link #GL_PATH_MITER_LIMIT_NV PATH_MITER_LIMIT_NV}</td><td>{@link #GL_PATH_INITIAL_DASH_CAP_NV PATH_INITIAL_DASH_CAP_NV}</td></tr><tr><td>{@link #GL_PATH_TERMINAL_DASH_CAP_NV PATH_TERMINAL_DASH_CAP_NV}</td><td>{@link #GL_PATH_DASH_OFFSET_NV PATH_DASH_OFFSET_NV}</td><td>{@link #GL_PATH_CLIENT_LENGTH_NV PATH_CLIENT_LENGTH_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_OFFSET_RESET_NV PATH_DASH_OFFSET_RESET_NV}</td><td>{@link #GL_PATH_FILL_MODE_NV PATH_FILL_MODE_NV}</td><td>{@link #GL_PATH_FILL_MASK_NV PATH_FILL_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_FILL_COVER_MODE_NV PATH_FILL_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_COVER_MODE_NV PATH_STROKE_COVER_MODE_NV}</td><td>{@link #GL_PATH_STROKE_MASK_NV PATH_STROKE_MASK_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUND_NV PATH_STROKE_BOUND_NV}</td><td>{@link #GL_PATH_COMMAND_COUNT_NV PATH_COMMAND_COUNT_NV}</td><td>{@link #GL_PATH_COORD_COUNT_NV PATH_COORD_COUNT_NV}</td></tr><tr><td>{@link #GL_PATH_DASH_ARRAY_COUNT_NV PATH_DASH_ARRAY_COUNT_NV}</td><td>{@link #GL_PATH_COMPUTED_LENGTH_NV PATH_COMPUTED_LENGTH_NV}</td><td>{@link #GL_PATH_FILL_BOUNDING_BOX_NV PATH_FILL_BOUNDING_BOX_NV}</td></tr><tr><td>{@link #GL_PATH_STROKE_BOUNDING_BOX_NV PATH_STROKE_BOUNDING_BOX_NV}</td></tr></table> */
@@ -819,7 +884,9 @@ public class NVPathRendering {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer value = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetPathParameterfvNV(path, pname, memAddress(value));
+            FunctionProfiler.end(PROFILE_ID + 23, __start);
             return value.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -836,7 +903,9 @@ public class NVPathRendering {
                 check(commands, glGetPathParameteriNV(path, GL_PATH_COMMAND_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetPathCommandsNV(path, memAddress(commands));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ glGetPathCoordsNV ] ---
@@ -849,7 +918,9 @@ public class NVPathRendering {
                 check(coords, glGetPathParameteriNV(path, GL_PATH_COORD_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetPathCoordsNV(path, memAddress(coords));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ glGetPathDashArrayNV ] ---
@@ -862,7 +933,9 @@ public class NVPathRendering {
                 check(dashArray, glGetPathParameteriNV(path, GL_PATH_DASH_ARRAY_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         nglGetPathDashArrayNV(path, memAddress(dashArray));
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ glGetPathMetricsNV ] ---
@@ -879,7 +952,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         nglGetPathMetricsNV(metricQueryMask, numPaths, pathNameType, memAddress(paths), pathBase, stride, memAddress(metrics));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ glGetPathMetricRangeNV ] ---
@@ -892,7 +967,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         nglGetPathMetricRangeNV(metricQueryMask, firstPathName, numPaths, stride, memAddress(metrics));
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ glGetPathSpacingNV ] ---
@@ -910,7 +987,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(returnedSpacing, (numPaths - 1) * (transformType == GL_TRANSLATE_X_NV ? 1 : 2));
         }
+        long __start = FunctionProfiler.start();
         nglGetPathSpacingNV(pathListMode, numPaths, pathNameType, memAddress(paths), pathBase, advanceScale, kerningScale, transformType, memAddress(returnedSpacing));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ glIsPointInFillPathNV ] ---
@@ -940,7 +1019,8 @@ public class NVPathRendering {
             checkSafe(tangentX, 1);
             checkSafe(tangentY, 1);
         }
-        return nglPointAlongPathNV(path, startSegment, numSegments, distance, memAddressSafe(x), memAddressSafe(y), memAddressSafe(tangentX), memAddressSafe(tangentY));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, nglPointAlongPathNV(path, startSegment, numSegments, distance, memAddressSafe(x), memAddressSafe(y), memAddressSafe(tangentX), memAddressSafe(tangentY)));
     }
 
     // --- [ glMatrixLoad3x2fNV ] ---
@@ -953,7 +1033,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoad3x2fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ glMatrixLoad3x3fNV ] ---
@@ -966,7 +1048,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoad3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ glMatrixLoadTranspose3x3fNV ] ---
@@ -979,7 +1063,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixLoadTranspose3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     // --- [ glMatrixMult3x2fNV ] ---
@@ -992,7 +1078,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMult3x2fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ glMatrixMult3x3fNV ] ---
@@ -1005,7 +1093,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMult3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ glMatrixMultTranspose3x3fNV ] ---
@@ -1018,7 +1108,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         nglMatrixMultTranspose3x3fNV(matrixMode, memAddress(m));
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ glGetProgramResourcefvNV ] ---
@@ -1029,7 +1121,9 @@ public class NVPathRendering {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramResourcefvNV(program, programInterface, index, props.remaining(), memAddress(props), params.remaining(), memAddressSafe(length), memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #glPathCommandsNV PathCommandsNV} */
@@ -1038,7 +1132,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPathCommandsNV PathCommandsNV} */
@@ -1047,7 +1143,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glPathCoordsNV PathCoordsNV} */
@@ -1056,7 +1154,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glPathCoordsNV PathCoordsNV} */
@@ -1065,7 +1165,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glPathSubCommandsNV PathSubCommandsNV} */
@@ -1074,7 +1176,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glPathSubCommandsNV PathSubCommandsNV} */
@@ -1083,7 +1187,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(path, commandStart, commandsToDelete, commands.remaining(), memAddress(commands), coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glPathSubCoordsNV PathSubCoordsNV} */
@@ -1092,7 +1198,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coordStart, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glPathSubCoordsNV PathSubCoordsNV} */
@@ -1101,7 +1209,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coordStart, coords.length, coordType, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glWeightPathsNV WeightPathsNV} */
@@ -1111,7 +1221,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(weights, paths.length);
         }
+        long __start = FunctionProfiler.start();
         callPPV(resultPath, paths.length, paths, weights, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #glTransformPathNV TransformPathNV} */
@@ -1121,7 +1233,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPV(resultPath, srcPath, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #glPathParameterivNV PathParameterivNV} */
@@ -1131,7 +1245,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Array version of: {@link #glPathParameterfvNV PathParameterfvNV} */
@@ -1141,7 +1257,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Array version of: {@link #glPathDashArrayNV PathDashArrayNV} */
@@ -1150,7 +1268,9 @@ public class NVPathRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, dashArray.length, dashArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Array version of: {@link #glStencilFillPathInstancedNV StencilFillPathInstancedNV} */
@@ -1161,7 +1281,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #glStencilStrokePathInstancedNV StencilStrokePathInstancedNV} */
@@ -1172,7 +1294,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /** Array version of: {@link #glCoverFillPathInstancedNV CoverFillPathInstancedNV} */
@@ -1183,7 +1307,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #glCoverStrokePathInstancedNV CoverStrokePathInstancedNV} */
@@ -1194,7 +1320,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /** Array version of: {@link #glStencilThenCoverFillPathInstancedNV StencilThenCoverFillPathInstancedNV} */
@@ -1205,7 +1333,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, fillMode, mask, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /** Array version of: {@link #glStencilThenCoverStrokePathInstancedNV StencilThenCoverStrokePathInstancedNV} */
@@ -1216,7 +1346,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(transformValues, numPaths * transformTypeToElements(transformType));
         }
+        long __start = FunctionProfiler.start();
         callPPV(numPaths, pathNameType, memAddress(paths), pathBase, reference, mask, coverMode, transformType, transformValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #glProgramPathFragmentInputGenNV ProgramPathFragmentInputGenNV} */
@@ -1226,7 +1358,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(coeffs, genModeToElements(genMode) * components);
         }
+        long __start = FunctionProfiler.start();
         callPV(program, location, genMode, components, coeffs, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #glGetPathParameterivNV GetPathParameterivNV} */
@@ -1236,7 +1370,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #glGetPathParameterfvNV GetPathParameterfvNV} */
@@ -1246,7 +1382,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(value, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(path, pname, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Array version of: {@link #glGetPathCoordsNV GetPathCoordsNV} */
@@ -1258,7 +1396,9 @@ public class NVPathRendering {
                 check(coords, glGetPathParameteriNV(path, GL_PATH_COORD_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         callPV(path, coords, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #glGetPathDashArrayNV GetPathDashArrayNV} */
@@ -1270,7 +1410,9 @@ public class NVPathRendering {
                 check(dashArray, glGetPathParameteriNV(path, GL_PATH_DASH_ARRAY_COUNT_NV));
             }
         }
+        long __start = FunctionProfiler.start();
         callPV(path, dashArray, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /** Array version of: {@link #glGetPathMetricsNV GetPathMetricsNV} */
@@ -1281,7 +1423,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         callPPV(metricQueryMask, numPaths, pathNameType, memAddress(paths), pathBase, stride, metrics, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** Array version of: {@link #glGetPathMetricRangeNV GetPathMetricRangeNV} */
@@ -1291,7 +1435,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(metrics, numPaths * (stride == 0 ? Integer.bitCount(metricQueryMask) : (stride >> 2)));
         }
+        long __start = FunctionProfiler.start();
         callPV(metricQueryMask, firstPathName, numPaths, stride, metrics, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     /** Array version of: {@link #glGetPathSpacingNV GetPathSpacingNV} */
@@ -1302,7 +1448,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(returnedSpacing, (numPaths - 1) * (transformType == GL_TRANSLATE_X_NV ? 1 : 2));
         }
+        long __start = FunctionProfiler.start();
         callPPV(pathListMode, numPaths, pathNameType, memAddress(paths), pathBase, advanceScale, kerningScale, transformType, returnedSpacing, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     /** Array version of: {@link #glPointAlongPathNV PointAlongPathNV} */
@@ -1316,7 +1464,8 @@ public class NVPathRendering {
             checkSafe(tangentX, 1);
             checkSafe(tangentY, 1);
         }
-        return callPPPPZ(path, startSegment, numSegments, distance, x, y, tangentX, tangentY, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPPPPZ(path, startSegment, numSegments, distance, x, y, tangentX, tangentY, __functionAddress));
     }
 
     /** Array version of: {@link #glMatrixLoad3x2fNV MatrixLoad3x2fNV} */
@@ -1326,7 +1475,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #glMatrixLoad3x3fNV MatrixLoad3x3fNV} */
@@ -1336,7 +1487,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #glMatrixLoadTranspose3x3fNV MatrixLoadTranspose3x3fNV} */
@@ -1346,7 +1499,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #glMatrixMult3x2fNV MatrixMult3x2fNV} */
@@ -1356,7 +1511,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 6);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     /** Array version of: {@link #glMatrixMult3x3fNV MatrixMult3x3fNV} */
@@ -1366,7 +1523,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     /** Array version of: {@link #glMatrixMultTranspose3x3fNV MatrixMultTranspose3x3fNV} */
@@ -1376,7 +1535,9 @@ public class NVPathRendering {
             check(__functionAddress);
             check(m, 9);
         }
+        long __start = FunctionProfiler.start();
         callPV(matrixMode, m, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /** Array version of: {@link #glGetProgramResourcefvNV GetProgramResourcefvNV} */
@@ -1386,7 +1547,9 @@ public class NVPathRendering {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, programInterface, index, props.length, props, params.length, length, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     private static int charcodeTypeToBytes(int type) {
@@ -53,6 +53,8 @@ public class NVSampleLocations {
         GL_FRAMEBUFFER_PROGRAMMABLE_SAMPLE_LOCATIONS_NV = 0x9342,
         GL_FRAMEBUFFER_SAMPLE_LOCATION_PIXEL_GRID_NV    = 0x9343;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVSampleLocations.class, "glFramebufferSampleLocationsfvNV,glNamedFramebufferSampleLocationsfvNV");
+
     static { GLES.initialize(); }
 
     protected NVSampleLocations() {
@@ -70,7 +72,9 @@ public class NVSampleLocations {
     public static native void nglFramebufferSampleLocationsfvNV(int target, int start, int count, long v);
 
     public static void glFramebufferSampleLocationsfvNV(@NativeType("GLenum") int target, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglFramebufferSampleLocationsfvNV(target, start, v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glNamedFramebufferSampleLocationsfvNV ] ---
@@ -78,7 +82,9 @@ public class NVSampleLocations {
     public static native void nglNamedFramebufferSampleLocationsfvNV(int framebuffer, int start, int count, long v);
 
     public static void glNamedFramebufferSampleLocationsfvNV(@NativeType("GLuint") int framebuffer, @NativeType("GLuint") int start, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglNamedFramebufferSampleLocationsfvNV(framebuffer, start, v.remaining(), memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glResolveDepthValuesNV ] ---
@@ -91,7 +97,9 @@ public class NVSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, start, v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glNamedFramebufferSampleLocationsfvNV NamedFramebufferSampleLocationsfvNV} */
@@ -100,7 +108,9 @@ public class NVSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(framebuffer, start, v.length, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
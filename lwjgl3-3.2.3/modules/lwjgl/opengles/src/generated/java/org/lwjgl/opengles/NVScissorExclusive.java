@@ -41,6 +41,8 @@ public class NVScissorExclusive {
      */
     public static final int GL_SCISSOR_BOX_EXCLUSIVE_NV = 0x9556;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVScissorExclusive.class, "glScissorExclusiveArrayvNV");
+
     static { GLES.initialize(); }
 
     protected NVScissorExclusive() {
@@ -58,7 +60,9 @@ public class NVScissorExclusive {
     public static native void nglScissorExclusiveArrayvNV(int first, int count, long v);
 
     public static void glScissorExclusiveArrayvNV(@NativeType("GLuint") int first, @NativeType("GLint const *") IntBuffer v) {
+        long __start = FunctionProfiler.start();
         nglScissorExclusiveArrayvNV(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glScissorExclusiveNV ] ---
@@ -71,7 +75,9 @@ public class NVScissorExclusive {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ public class NVViewportArray {
         GL_VIEWPORT_BOUNDS_RANGE_NV           = 0x825D,
         GL_VIEWPORT_INDEX_PROVOKING_VERTEX_NV = 0x825F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVViewportArray.class, "glViewportArrayvNV,glViewportIndexedfvNV,glScissorArrayvNV,glScissorIndexedvNV,glDepthRangeArrayfvNV,glGetFloati_vNV");
+
     static { GLES.initialize(); }
 
     protected NVViewportArray() {
@@ -60,7 +62,9 @@ public class NVViewportArray {
     public static native void nglViewportArrayvNV(int first, int count, long v);
 
     public static void glViewportArrayvNV(@NativeType("GLuint") int first, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglViewportArrayvNV(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glViewportIndexedfNV ] ---
@@ -75,7 +79,9 @@ public class NVViewportArray {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglViewportIndexedfvNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glScissorArrayvNV ] ---
@@ -83,7 +89,9 @@ public class NVViewportArray {
     public static native void nglScissorArrayvNV(int first, int count, long v);
 
     public static void glScissorArrayvNV(@NativeType("GLuint") int first, @NativeType("GLint const *") IntBuffer v) {
+        long __start = FunctionProfiler.start();
         nglScissorArrayvNV(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glScissorIndexedNV ] ---
@@ -98,7 +106,9 @@ public class NVViewportArray {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglScissorIndexedvNV(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glDepthRangeArrayfvNV ] ---
@@ -106,7 +116,9 @@ public class NVViewportArray {
     public static native void nglDepthRangeArrayfvNV(int first, int count, long v);
 
     public static void glDepthRangeArrayfvNV(@NativeType("GLuint") int first, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglDepthRangeArrayfvNV(first, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glDepthRangeIndexedfNV ] ---
@@ -121,7 +133,9 @@ public class NVViewportArray {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloati_vNV(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -129,7 +143,9 @@ public class NVViewportArray {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloati_vNV(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -155,7 +171,9 @@ public class NVViewportArray {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glViewportIndexedfvNV ViewportIndexedfvNV} */
@@ -165,7 +183,9 @@ public class NVViewportArray {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glScissorArrayvNV ScissorArrayvNV} */
@@ -174,7 +194,9 @@ public class NVViewportArray {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glScissorIndexedvNV ScissorIndexedvNV} */
@@ -184,7 +206,9 @@ public class NVViewportArray {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glDepthRangeArrayfvNV DepthRangeArrayfvNV} */
@@ -193,7 +217,9 @@ public class NVViewportArray {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetFloati_vNV GetFloati_vNV} */
@@ -203,7 +229,9 @@ public class NVViewportArray {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
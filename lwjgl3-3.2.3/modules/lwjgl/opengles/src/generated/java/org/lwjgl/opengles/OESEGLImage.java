@@ -23,6 +23,8 @@ import static org.lwjgl.system.Checks.*;
  */
 public class OESEGLImage {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OESEGLImage.class, "glEGLImageTargetTexture2DOES,glEGLImageTargetRenderbufferStorageOES");
+
     static { GLES.initialize(); }
 
     protected OESEGLImage() {
@@ -43,7 +45,9 @@ public class OESEGLImage {
         if (CHECKS) {
             check(image);
         }
+        long __start = FunctionProfiler.start();
         nglEGLImageTargetTexture2DOES(target, image);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glEGLImageTargetRenderbufferStorageOES ] ---
@@ -54,7 +58,9 @@ public class OESEGLImage {
         if (CHECKS) {
             check(image);
         }
+        long __start = FunctionProfiler.start();
         nglEGLImageTargetRenderbufferStorageOES(target, image);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -43,6 +43,8 @@ public class OESGetProgramBinary {
         GL_NUM_PROGRAM_BINARY_FORMATS_OES = 0x87FE,
         GL_PROGRAM_BINARY_FORMATS_OES     = 0x87FF;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OESGetProgramBinary.class, "glGetProgramBinaryOES,glProgramBinaryOES");
+
     static { GLES.initialize(); }
 
     protected OESGetProgramBinary() {
@@ -64,7 +66,9 @@ public class OESGetProgramBinary {
             checkSafe(length, 1);
             check(binaryFormat, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetProgramBinaryOES(program, binary.remaining(), memAddressSafe(length), memAddress(binaryFormat), memAddress(binary));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glProgramBinaryOES ] ---
@@ -72,7 +76,9 @@ public class OESGetProgramBinary {
     public static native void nglProgramBinaryOES(int program, int binaryFormat, long binary, int length);
 
     public static void glProgramBinaryOES(@NativeType("GLuint") int program, @NativeType("GLenum") int binaryFormat, @NativeType("void const *") ByteBuffer binary) {
+        long __start = FunctionProfiler.start();
         nglProgramBinaryOES(program, binaryFormat, memAddress(binary), binary.remaining());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetProgramBinaryOES GetProgramBinaryOES} */
@@ -83,7 +89,9 @@ public class OESGetProgramBinary {
             checkSafe(length, 1);
             check(binaryFormat, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(program, binary.remaining(), length, binaryFormat, memAddress(binary), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
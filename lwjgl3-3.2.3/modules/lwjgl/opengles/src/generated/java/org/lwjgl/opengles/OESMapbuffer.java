@@ -37,6 +37,8 @@ public class OESMapbuffer {
     /** Accepted by the {@code pname} parameter of GetBufferPointervOES. */
     public static final int GL_BUFFER_MAP_POINTER_OES = 0x88BD;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OESMapbuffer.class, "glMapBufferOES,glGetBufferPointervOES");
+
     static { GLES.initialize(); }
 
     protected OESMapbuffer() {
@@ -56,14 +58,16 @@ public class OESMapbuffer {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferOES(@NativeType("GLenum") int target, @NativeType("GLenum") int access) {
-        long __result = nglMapBufferOES(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapBufferOES(target, access));
         return memByteBufferSafe(__result, GLES20.glGetBufferParameteri(target, GLES20.GL_BUFFER_SIZE));
     }
 
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferOES(@NativeType("GLenum") int target, @NativeType("GLenum") int access, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferOES(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapBufferOES(target, access));
         int length = GLES20.glGetBufferParameteri(target, GLES20.GL_BUFFER_SIZE);
         return apiGetMappedBuffer(old_buffer, __result, length);
     }
@@ -71,7 +75,8 @@ public class OESMapbuffer {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBufferOES(@NativeType("GLenum") int target, @NativeType("GLenum") int access, long length, @Nullable ByteBuffer old_buffer) {
-        long __result = nglMapBufferOES(target, access);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nglMapBufferOES(target, access));
         return apiGetMappedBuffer(old_buffer, __result, (int)length);
     }
 
@@ -88,7 +93,9 @@ public class OESMapbuffer {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetBufferPointervOES(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -96,7 +103,9 @@ public class OESMapbuffer {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglGetBufferPointervOES(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
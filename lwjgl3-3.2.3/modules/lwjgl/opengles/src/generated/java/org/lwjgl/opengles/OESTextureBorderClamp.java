@@ -45,6 +45,8 @@ public class OESTextureBorderClamp {
      */
     public static final int GL_CLAMP_TO_BORDER_OES = 0x812D;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OESTextureBorderClamp.class, "glTexParameterIivOES,glTexParameterIuivOES,glGetTexParameterIivOES,glGetTexParameterIuivOES,glSamplerParameterIivOES,glSamplerParameterIuivOES,glGetSamplerParameterIivOES,glGetSamplerParameterIuivOES");
+
     static { GLES.initialize(); }
 
     protected OESTextureBorderClamp() {
@@ -66,14 +68,18 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIivOES(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glTexParameterIiOES(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIivOES(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -87,14 +93,18 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglTexParameterIuivOES(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void glTexParameterIuiOES(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLuint const *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglTexParameterIuivOES(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -108,7 +118,9 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIivOES(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     @NativeType("void")
@@ -116,7 +128,9 @@ public class OESTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIivOES(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 2, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -131,7 +145,9 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetTexParameterIuivOES(target, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     @NativeType("void")
@@ -139,7 +155,9 @@ public class OESTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetTexParameterIuivOES(target, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 3, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -154,14 +172,18 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIivOES(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void glSamplerParameterIiOES(@NativeType("GLuint") int sampler, @NativeType("GLenum") int pname, @NativeType("GLint const *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglSamplerParameterIivOES(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -175,14 +197,18 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglSamplerParameterIuivOES(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     public static void glSamplerParameterIuiOES(@NativeType("GLuint") int sampler, @NativeType("GLenum") int pname, @NativeType("GLuint const *") int param) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.ints(param);
+            long __start = FunctionProfiler.start();
             nglSamplerParameterIuivOES(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -196,7 +222,9 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIivOES(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     @NativeType("void")
@@ -204,7 +232,9 @@ public class OESTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIivOES(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -219,7 +249,9 @@ public class OESTextureBorderClamp {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetSamplerParameterIuivOES(sampler, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     @NativeType("void")
@@ -227,7 +259,9 @@ public class OESTextureBorderClamp {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGetSamplerParameterIuivOES(sampler, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 7, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -241,7 +275,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glTexParameterIuivOES TexParameterIuivOES} */
@@ -251,7 +287,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glGetTexParameterIivOES GetTexParameterIivOES} */
@@ -261,7 +299,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glGetTexParameterIuivOES GetTexParameterIuivOES} */
@@ -271,7 +311,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glSamplerParameterIivOES SamplerParameterIivOES} */
@@ -281,7 +323,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glSamplerParameterIuivOES SamplerParameterIuivOES} */
@@ -291,7 +335,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #glGetSamplerParameterIivOES GetSamplerParameterIivOES} */
@@ -301,7 +347,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** Array version of: {@link #glGetSamplerParameterIuivOES GetSamplerParameterIuivOES} */
@@ -311,7 +359,9 @@ public class OESTextureBorderClamp {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(sampler, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
 }
\ No newline at end of file
@@ -26,6 +26,8 @@ public class OESVertexArrayObject {
     /** Accepted by the {@code pname} parameter of GetBooleanv, GetIntegerv, GetFloatv. */
     public static final int GL_VERTEX_ARRAY_BINDING_OES = 0x85B5;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OESVertexArrayObject.class, "glDeleteVertexArraysOES,glGenVertexArraysOES");
+
     static { GLES.initialize(); }
 
     protected OESVertexArrayObject() {
@@ -47,14 +49,18 @@ public class OESVertexArrayObject {
     public static native void nglDeleteVertexArraysOES(int n, long arrays);
 
     public static void glDeleteVertexArraysOES(@NativeType("GLuint const *") IntBuffer arrays) {
+        long __start = FunctionProfiler.start();
         nglDeleteVertexArraysOES(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void glDeleteVertexArraysOES(@NativeType("GLuint const *") int array) {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.ints(array);
+            long __start = FunctionProfiler.start();
             nglDeleteVertexArraysOES(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -68,7 +74,9 @@ public class OESVertexArrayObject {
         if (CHECKS) {
             check(arrays, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGenVertexArraysOES(arrays.remaining(), memAddress(arrays));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -76,7 +84,9 @@ public class OESVertexArrayObject {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer arrays = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglGenVertexArraysOES(1, memAddress(arrays));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return arrays.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -94,7 +104,9 @@ public class OESVertexArrayObject {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGenVertexArraysOES GenVertexArraysOES} */
@@ -104,7 +116,9 @@ public class OESVertexArrayObject {
             check(__functionAddress);
             check(arrays, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(arrays.length, arrays, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ public class OESViewportArray {
         GL_VIEWPORT_BOUNDS_RANGE_OES           = 0x825D,
         GL_VIEWPORT_INDEX_PROVOKING_VERTEX_OES = 0x825F;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OESViewportArray.class, "glViewportArrayvOES,glViewportIndexedfvOES,glScissorArrayvOES,glScissorIndexedvOES,glDepthRangeArrayfvOES,glGetFloati_vOES");
+
     static { GLES.initialize(); }
 
     protected OESViewportArray() {
@@ -60,7 +62,9 @@ public class OESViewportArray {
     public static native void nglViewportArrayvOES(int first, int count, long v);
 
     public static void glViewportArrayvOES(@NativeType("GLuint") int first, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglViewportArrayvOES(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glViewportIndexedfOES ] ---
@@ -75,7 +79,9 @@ public class OESViewportArray {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglViewportIndexedfvOES(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glScissorArrayvOES ] ---
@@ -83,7 +89,9 @@ public class OESViewportArray {
     public static native void nglScissorArrayvOES(int first, int count, long v);
 
     public static void glScissorArrayvOES(@NativeType("GLuint") int first, @NativeType("GLint const *") IntBuffer v) {
+        long __start = FunctionProfiler.start();
         nglScissorArrayvOES(first, v.remaining() >> 2, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glScissorIndexedOES ] ---
@@ -98,7 +106,9 @@ public class OESViewportArray {
         if (CHECKS) {
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         nglScissorIndexedvOES(index, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glDepthRangeArrayfvOES ] ---
@@ -106,7 +116,9 @@ public class OESViewportArray {
     public static native void nglDepthRangeArrayfvOES(int first, int count, long v);
 
     public static void glDepthRangeArrayfvOES(@NativeType("GLuint") int first, @NativeType("GLfloat const *") FloatBuffer v) {
+        long __start = FunctionProfiler.start();
         nglDepthRangeArrayfvOES(first, v.remaining() >> 1, memAddress(v));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ glDepthRangeIndexedfOES ] ---
@@ -121,7 +133,9 @@ public class OESViewportArray {
         if (CHECKS) {
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetFloati_vOES(target, index, memAddress(data));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     @NativeType("void")
@@ -129,7 +143,9 @@ public class OESViewportArray {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             FloatBuffer data = stack.callocFloat(1);
+            long __start = FunctionProfiler.start();
             nglGetFloati_vOES(target, index, memAddress(data));
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
             return data.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -161,7 +177,9 @@ public class OESViewportArray {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glViewportIndexedfvOES ViewportIndexedfvOES} */
@@ -171,7 +189,9 @@ public class OESViewportArray {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glScissorArrayvOES ScissorArrayvOES} */
@@ -180,7 +200,9 @@ public class OESViewportArray {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 2, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glScissorIndexedvOES ScissorIndexedvOES} */
@@ -190,7 +212,9 @@ public class OESViewportArray {
             check(__functionAddress);
             check(v, 4);
         }
+        long __start = FunctionProfiler.start();
         callPV(index, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glDepthRangeArrayfvOES DepthRangeArrayfvOES} */
@@ -199,7 +223,9 @@ public class OESViewportArray {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(first, v.length >> 1, v, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #glGetFloati_vOES GetFloati_vOES} */
@@ -209,7 +235,9 @@ public class OESViewportArray {
             check(__functionAddress);
             check(data, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(target, index, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
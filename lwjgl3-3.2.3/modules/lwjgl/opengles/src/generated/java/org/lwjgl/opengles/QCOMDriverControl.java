@@ -30,6 +30,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class QCOMDriverControl {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(QCOMDriverControl.class, "glGetDriverControlsQCOM,glGetDriverControlStringQCOM");
+
     static { GLES.initialize(); }
 
     protected QCOMDriverControl() {
@@ -50,7 +52,9 @@ public class QCOMDriverControl {
         if (CHECKS) {
             checkSafe(num, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetDriverControlsQCOM(memAddressSafe(num), remainingSafe(driverControls), memAddressSafe(driverControls));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glGetDriverControlStringQCOM ] ---
@@ -61,7 +65,9 @@ public class QCOMDriverControl {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglGetDriverControlStringQCOM(driverControl, remainingSafe(driverControlString), memAddressSafe(length), memAddressSafe(driverControlString));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     @NativeType("void")
@@ -70,7 +76,9 @@ public class QCOMDriverControl {
         try {
             IntBuffer length = stack.ints(0);
             ByteBuffer driverControlString = stack.malloc(bufSize);
+            long __start = FunctionProfiler.start();
             nglGetDriverControlStringQCOM(driverControl, bufSize, memAddress(length), memAddress(driverControlString));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
             return memASCII(driverControlString, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -92,7 +100,9 @@ public class QCOMDriverControl {
             check(__functionAddress);
             checkSafe(num, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(num, lengthSafe(driverControls), driverControls, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glGetDriverControlStringQCOM GetDriverControlStringQCOM} */
@@ -102,7 +112,9 @@ public class QCOMDriverControl {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(driverControl, remainingSafe(driverControlString), length, memAddressSafe(driverControlString), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -40,6 +40,8 @@ public class QCOMExtendedGet {
     /** Accepted by the {@code pname} parameter of ExtTexObjectStateOverrideiQCOM. */
     public static final int GL_STATE_RESTORE = 0x8BDC;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(QCOMExtendedGet.class, "glExtGetTexturesQCOM,glExtGetBuffersQCOM,glExtGetRenderbuffersQCOM,glExtGetFramebuffersQCOM,glExtGetTexLevelParameterivQCOM,glExtGetTexSubImageQCOM,glExtGetBufferPointervQCOM");
+
     static { GLES.initialize(); }
 
     protected QCOMExtendedGet() {
@@ -61,7 +63,9 @@ public class QCOMExtendedGet {
         if (CHECKS) {
             checkSafe(numTextures, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetTexturesQCOM(memAddressSafe(textures), remainingSafe(textures), memAddressSafe(numTextures));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glExtGetBuffersQCOM ] ---
@@ -72,7 +76,9 @@ public class QCOMExtendedGet {
         if (CHECKS) {
             checkSafe(numBuffers, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetBuffersQCOM(memAddressSafe(buffers), remainingSafe(buffers), memAddressSafe(numBuffers));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glExtGetRenderbuffersQCOM ] ---
@@ -83,7 +89,9 @@ public class QCOMExtendedGet {
         if (CHECKS) {
             checkSafe(numRenderbuffers, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetRenderbuffersQCOM(memAddressSafe(renderbuffers), remainingSafe(renderbuffers), memAddressSafe(numRenderbuffers));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ glExtGetFramebuffersQCOM ] ---
@@ -94,7 +102,9 @@ public class QCOMExtendedGet {
         if (CHECKS) {
             checkSafe(numFramebuffers, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetFramebuffersQCOM(memAddressSafe(framebuffers), remainingSafe(framebuffers), memAddressSafe(numFramebuffers));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ glExtGetTexLevelParameterivQCOM ] ---
@@ -105,7 +115,9 @@ public class QCOMExtendedGet {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetTexLevelParameterivQCOM(texture, face, level, pname, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     @NativeType("void")
@@ -113,7 +125,9 @@ public class QCOMExtendedGet {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer params = stack.callocInt(1);
+            long __start = FunctionProfiler.start();
             nglExtGetTexLevelParameterivQCOM(texture, face, level, pname, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -129,7 +143,9 @@ public class QCOMExtendedGet {
     public static native void nglExtGetTexSubImageQCOM(int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth, int format, int type, long texels);
 
     public static void glExtGetTexSubImageQCOM(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int zoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLsizei") int depth, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer texels) {
+        long __start = FunctionProfiler.start();
         nglExtGetTexSubImageQCOM(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, memAddress(texels));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ glExtGetBufferPointervQCOM ] ---
@@ -140,7 +156,9 @@ public class QCOMExtendedGet {
         if (CHECKS) {
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetBufferPointervQCOM(target, memAddress(params));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     @NativeType("void")
@@ -148,7 +166,9 @@ public class QCOMExtendedGet {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer params = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nglExtGetBufferPointervQCOM(target, memAddress(params));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
             return params.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -162,7 +182,9 @@ public class QCOMExtendedGet {
             check(__functionAddress);
             checkSafe(numTextures, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(textures, lengthSafe(textures), numTextures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glExtGetBuffersQCOM ExtGetBuffersQCOM} */
@@ -172,7 +194,9 @@ public class QCOMExtendedGet {
             check(__functionAddress);
             checkSafe(numBuffers, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(buffers, lengthSafe(buffers), numBuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glExtGetRenderbuffersQCOM ExtGetRenderbuffersQCOM} */
@@ -182,7 +206,9 @@ public class QCOMExtendedGet {
             check(__functionAddress);
             checkSafe(numRenderbuffers, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(renderbuffers, lengthSafe(renderbuffers), numRenderbuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glExtGetFramebuffersQCOM ExtGetFramebuffersQCOM} */
@@ -192,7 +218,9 @@ public class QCOMExtendedGet {
             check(__functionAddress);
             checkSafe(numFramebuffers, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(framebuffers, lengthSafe(framebuffers), numFramebuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #glExtGetTexLevelParameterivQCOM ExtGetTexLevelParameterivQCOM} */
@@ -202,7 +230,9 @@ public class QCOMExtendedGet {
             check(__functionAddress);
             check(params, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(texture, face, level, pname, params, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
 }
\ No newline at end of file
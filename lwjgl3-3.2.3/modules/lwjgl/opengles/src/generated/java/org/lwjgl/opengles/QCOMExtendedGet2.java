@@ -22,6 +22,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class QCOMExtendedGet2 {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(QCOMExtendedGet2.class, "glExtGetShadersQCOM,glExtGetProgramsQCOM,glExtGetProgramBinarySourceQCOM");
+
     static { GLES.initialize(); }
 
     protected QCOMExtendedGet2() {
@@ -42,7 +44,9 @@ public class QCOMExtendedGet2 {
         if (CHECKS) {
             checkSafe(numShaders, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetShadersQCOM(memAddressSafe(shaders), remainingSafe(shaders), memAddressSafe(numShaders));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glExtGetProgramsQCOM ] ---
@@ -53,7 +57,9 @@ public class QCOMExtendedGet2 {
         if (CHECKS) {
             checkSafe(numPrograms, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetProgramsQCOM(memAddressSafe(programs), remainingSafe(programs), memAddressSafe(numPrograms));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ glExtIsProgramBinaryQCOM ] ---
@@ -69,7 +75,9 @@ public class QCOMExtendedGet2 {
         if (CHECKS) {
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         nglExtGetProgramBinarySourceQCOM(program, shadertype, memAddress(source), memAddressSafe(length));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #glExtGetShadersQCOM ExtGetShadersQCOM} */
@@ -79,7 +87,9 @@ public class QCOMExtendedGet2 {
             check(__functionAddress);
             checkSafe(numShaders, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(shaders, lengthSafe(shaders), numShaders, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #glExtGetProgramsQCOM ExtGetProgramsQCOM} */
@@ -89,7 +99,9 @@ public class QCOMExtendedGet2 {
             check(__functionAddress);
             checkSafe(numPrograms, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(programs, lengthSafe(programs), numPrograms, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #glExtGetProgramBinarySourceQCOM ExtGetProgramBinarySourceQCOM} */
@@ -99,7 +111,9 @@ public class QCOMExtendedGet2 {
             check(__functionAddress);
             checkSafe(length, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(program, shadertype, memAddress(source), length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -46,6 +46,8 @@ public class QCOMFramebufferFoveated {
         GL_FOVEATION_ENABLE_BIT_QCOM            = 0x1,
         GL_FOVEATION_SCALED_BIN_METHOD_BIT_QCOM = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(QCOMFramebufferFoveated.class, "glFramebufferFoveationConfigQCOM");
+
     static { GLES.initialize(); }
 
     protected QCOMFramebufferFoveated() {
@@ -66,7 +68,9 @@ public class QCOMFramebufferFoveated {
         if (CHECKS) {
             check(providedFeatures, 1);
         }
+        long __start = FunctionProfiler.start();
         nglFramebufferFoveationConfigQCOM(fbo, numLayers, focalPointsPerLayer, requestedFeatures, memAddress(providedFeatures));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ glFramebufferFoveationParametersQCOM ] ---
@@ -80,7 +84,9 @@ public class QCOMFramebufferFoveated {
             check(__functionAddress);
             check(providedFeatures, 1);
         }
+        long __start = FunctionProfiler.start();
         callPV(fbo, numLayers, focalPointsPerLayer, requestedFeatures, providedFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
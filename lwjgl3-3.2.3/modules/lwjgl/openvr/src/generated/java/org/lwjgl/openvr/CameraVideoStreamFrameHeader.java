@@ -215,6 +215,24 @@ public class CameraVideoStreamFrameHeader extends Struct implements NativeResour
         return wrap(CameraVideoStreamFrameHeader.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CameraVideoStreamFrameHeader} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CameraVideoStreamFrameHeader malloc(MemoryArena arena) {
+        return wrap(CameraVideoStreamFrameHeader.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CameraVideoStreamFrameHeader} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CameraVideoStreamFrameHeader calloc(MemoryArena arena) {
+        return wrap(CameraVideoStreamFrameHeader.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CameraVideoStreamFrameHeader.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -253,6 +271,26 @@ public class CameraVideoStreamFrameHeader extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CameraVideoStreamFrameHeader.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CameraVideoStreamFrameHeader.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CameraVideoStreamFrameHeader.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CameraVideoStreamFrameHeader.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #eFrameType}. */
@@ -330,6 +368,31 @@ public class CameraVideoStreamFrameHeader extends Struct implements NativeResour
         @NativeType("uint64_t")
         public long ulFrameExposureTime() { return CameraVideoStreamFrameHeader.nulFrameExposureTime(address()); }
 
+        /** Copies the {@code eFrameType} field of the structs between the current position and limit to the specified array. */
+        public CameraVideoStreamFrameHeader.Buffer getEFrameType(int[] dst) { gather(CameraVideoStreamFrameHeader.EFRAMETYPE, dst); return this; }
+        /** Copies the {@code eFrameType} field of the structs between the current position and limit to the specified buffer. */
+        public CameraVideoStreamFrameHeader.Buffer getEFrameType(IntBuffer dst) { gather(CameraVideoStreamFrameHeader.EFRAMETYPE, dst); return this; }
+        /** Copies the {@code nWidth} field of the structs between the current position and limit to the specified array. */
+        public CameraVideoStreamFrameHeader.Buffer getNWidth(int[] dst) { gather(CameraVideoStreamFrameHeader.NWIDTH, dst); return this; }
+        /** Copies the {@code nWidth} field of the structs between the current position and limit to the specified buffer. */
+        public CameraVideoStreamFrameHeader.Buffer getNWidth(IntBuffer dst) { gather(CameraVideoStreamFrameHeader.NWIDTH, dst); return this; }
+        /** Copies the {@code nHeight} field of the structs between the current position and limit to the specified array. */
+        public CameraVideoStreamFrameHeader.Buffer getNHeight(int[] dst) { gather(CameraVideoStreamFrameHeader.NHEIGHT, dst); return this; }
+        /** Copies the {@code nHeight} field of the structs between the current position and limit to the specified buffer. */
+        public CameraVideoStreamFrameHeader.Buffer getNHeight(IntBuffer dst) { gather(CameraVideoStreamFrameHeader.NHEIGHT, dst); return this; }
+        /** Copies the {@code nBytesPerPixel} field of the structs between the current position and limit to the specified array. */
+        public CameraVideoStreamFrameHeader.Buffer getNBytesPerPixel(int[] dst) { gather(CameraVideoStreamFrameHeader.NBYTESPERPIXEL, dst); return this; }
+        /** Copies the {@code nBytesPerPixel} field of the structs between the current position and limit to the specified buffer. */
+        public CameraVideoStreamFrameHeader.Buffer getNBytesPerPixel(IntBuffer dst) { gather(CameraVideoStreamFrameHeader.NBYTESPERPIXEL, dst); return this; }
+        /** Copies the {@code nFrameSequence} field of the structs between the current position and limit to the specified array. */
+        public CameraVideoStreamFrameHeader.Buffer getNFrameSequence(int[] dst) { gather(CameraVideoStreamFrameHeader.NFRAMESEQUENCE, dst); return this; }
+        /** Copies the {@code nFrameSequence} field of the structs between the current position and limit to the specified buffer. */
+        public CameraVideoStreamFrameHeader.Buffer getNFrameSequence(IntBuffer dst) { gather(CameraVideoStreamFrameHeader.NFRAMESEQUENCE, dst); return this; }
+        /** Copies the {@code ulFrameExposureTime} field of the structs between the current position and limit to the specified array. */
+        public CameraVideoStreamFrameHeader.Buffer getUlFrameExposureTime(long[] dst) { gather(CameraVideoStreamFrameHeader.ULFRAMEEXPOSURETIME, dst); return this; }
+        /** Copies the {@code ulFrameExposureTime} field of the structs between the current position and limit to the specified buffer. */
+        public CameraVideoStreamFrameHeader.Buffer getUlFrameExposureTime(LongBuffer dst) { gather(CameraVideoStreamFrameHeader.ULFRAMEEXPOSURETIME, dst); return this; }
+
     }
 
 }
\ No newline at end of file
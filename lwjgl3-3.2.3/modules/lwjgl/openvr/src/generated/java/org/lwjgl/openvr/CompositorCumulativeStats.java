@@ -277,6 +277,24 @@ public class CompositorCumulativeStats extends Struct implements NativeResource
         return wrap(CompositorCumulativeStats.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CompositorCumulativeStats} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CompositorCumulativeStats malloc(MemoryArena arena) {
+        return wrap(CompositorCumulativeStats.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CompositorCumulativeStats} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CompositorCumulativeStats calloc(MemoryArena arena) {
+        return wrap(CompositorCumulativeStats.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CompositorCumulativeStats.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -315,6 +333,26 @@ public class CompositorCumulativeStats extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CompositorCumulativeStats.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CompositorCumulativeStats.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CompositorCumulativeStats.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CompositorCumulativeStats.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_nPid}. */
@@ -432,6 +470,67 @@ public class CompositorCumulativeStats extends Struct implements NativeResource
         @NativeType("uint32_t")
         public int m_nNumReprojectedFramesTimedOut() { return CompositorCumulativeStats.nm_nNumReprojectedFramesTimedOut(address()); }
 
+        /** Copies the {@code m_nPid} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nPid(int[] dst) { gather(CompositorCumulativeStats.M_NPID, dst); return this; }
+        /** Copies the {@code m_nPid} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nPid(IntBuffer dst) { gather(CompositorCumulativeStats.M_NPID, dst); return this; }
+        /** Copies the {@code m_nNumFramePresents} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresents(int[] dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTS, dst); return this; }
+        /** Copies the {@code m_nNumFramePresents} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresents(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTS, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFrames} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFrames(int[] dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFrames} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFrames(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFrames} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFrames(int[] dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFrames} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFrames(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nNumFramePresentsOnStartup} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresentsOnStartup(int[] dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTSONSTARTUP, dst); return this; }
+        /** Copies the {@code m_nNumFramePresentsOnStartup} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresentsOnStartup(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTSONSTARTUP, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFramesOnStartup} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFramesOnStartup(int[] dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMESONSTARTUP, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFramesOnStartup} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFramesOnStartup(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMESONSTARTUP, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFramesOnStartup} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFramesOnStartup(int[] dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMESONSTARTUP, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFramesOnStartup} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFramesOnStartup(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMESONSTARTUP, dst); return this; }
+        /** Copies the {@code m_nNumLoading} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumLoading(int[] dst) { gather(CompositorCumulativeStats.M_NNUMLOADING, dst); return this; }
+        /** Copies the {@code m_nNumLoading} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumLoading(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMLOADING, dst); return this; }
+        /** Copies the {@code m_nNumFramePresentsLoading} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresentsLoading(int[] dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTSLOADING, dst); return this; }
+        /** Copies the {@code m_nNumFramePresentsLoading} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresentsLoading(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTSLOADING, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFramesLoading} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFramesLoading(int[] dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMESLOADING, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFramesLoading} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFramesLoading(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMESLOADING, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFramesLoading} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFramesLoading(int[] dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMESLOADING, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFramesLoading} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFramesLoading(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMESLOADING, dst); return this; }
+        /** Copies the {@code m_nNumTimedOut} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumTimedOut(int[] dst) { gather(CompositorCumulativeStats.M_NNUMTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumTimedOut} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumTimedOut(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumFramePresentsTimedOut} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresentsTimedOut(int[] dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTSTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumFramePresentsTimedOut} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumFramePresentsTimedOut(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMFRAMEPRESENTSTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFramesTimedOut} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFramesTimedOut(int[] dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMESTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFramesTimedOut} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumDroppedFramesTimedOut(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMDROPPEDFRAMESTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFramesTimedOut} field of the structs between the current position and limit to the specified array. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFramesTimedOut(int[] dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMESTIMEDOUT, dst); return this; }
+        /** Copies the {@code m_nNumReprojectedFramesTimedOut} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorCumulativeStats.Buffer getM_nNumReprojectedFramesTimedOut(IntBuffer dst) { gather(CompositorCumulativeStats.M_NNUMREPROJECTEDFRAMESTIMEDOUT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -349,6 +349,24 @@ public class CompositorFrameTiming extends Struct implements NativeResource {
         return wrap(CompositorFrameTiming.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CompositorFrameTiming} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CompositorFrameTiming malloc(MemoryArena arena) {
+        return wrap(CompositorFrameTiming.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CompositorFrameTiming} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CompositorFrameTiming calloc(MemoryArena arena) {
+        return wrap(CompositorFrameTiming.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CompositorFrameTiming.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -387,6 +405,26 @@ public class CompositorFrameTiming extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CompositorFrameTiming.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CompositorFrameTiming.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CompositorFrameTiming.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CompositorFrameTiming.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_nSize}. */
@@ -542,6 +580,107 @@ public class CompositorFrameTiming extends Struct implements NativeResource {
         @NativeType("uint32_t")
         public int m_nNumVSyncsToFirstView() { return CompositorFrameTiming.nm_nNumVSyncsToFirstView(address()); }
 
+        /** Copies the {@code m_nSize} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nSize(int[] dst) { gather(CompositorFrameTiming.M_NSIZE, dst); return this; }
+        /** Copies the {@code m_nSize} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nSize(IntBuffer dst) { gather(CompositorFrameTiming.M_NSIZE, dst); return this; }
+        /** Copies the {@code m_nFrameIndex} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nFrameIndex(int[] dst) { gather(CompositorFrameTiming.M_NFRAMEINDEX, dst); return this; }
+        /** Copies the {@code m_nFrameIndex} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nFrameIndex(IntBuffer dst) { gather(CompositorFrameTiming.M_NFRAMEINDEX, dst); return this; }
+        /** Copies the {@code m_nNumFramePresents} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nNumFramePresents(int[] dst) { gather(CompositorFrameTiming.M_NNUMFRAMEPRESENTS, dst); return this; }
+        /** Copies the {@code m_nNumFramePresents} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nNumFramePresents(IntBuffer dst) { gather(CompositorFrameTiming.M_NNUMFRAMEPRESENTS, dst); return this; }
+        /** Copies the {@code m_nNumMisPresented} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nNumMisPresented(int[] dst) { gather(CompositorFrameTiming.M_NNUMMISPRESENTED, dst); return this; }
+        /** Copies the {@code m_nNumMisPresented} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nNumMisPresented(IntBuffer dst) { gather(CompositorFrameTiming.M_NNUMMISPRESENTED, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFrames} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nNumDroppedFrames(int[] dst) { gather(CompositorFrameTiming.M_NNUMDROPPEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFrames} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nNumDroppedFrames(IntBuffer dst) { gather(CompositorFrameTiming.M_NNUMDROPPEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nReprojectionFlags} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nReprojectionFlags(int[] dst) { gather(CompositorFrameTiming.M_NREPROJECTIONFLAGS, dst); return this; }
+        /** Copies the {@code m_nReprojectionFlags} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nReprojectionFlags(IntBuffer dst) { gather(CompositorFrameTiming.M_NREPROJECTIONFLAGS, dst); return this; }
+        /** Copies the {@code m_flSystemTimeInSeconds} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flSystemTimeInSeconds(double[] dst) { gather(CompositorFrameTiming.M_FLSYSTEMTIMEINSECONDS, dst); return this; }
+        /** Copies the {@code m_flSystemTimeInSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flSystemTimeInSeconds(DoubleBuffer dst) { gather(CompositorFrameTiming.M_FLSYSTEMTIMEINSECONDS, dst); return this; }
+        /** Copies the {@code m_flPreSubmitGpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flPreSubmitGpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLPRESUBMITGPUMS, dst); return this; }
+        /** Copies the {@code m_flPreSubmitGpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flPreSubmitGpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLPRESUBMITGPUMS, dst); return this; }
+        /** Copies the {@code m_flPostSubmitGpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flPostSubmitGpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLPOSTSUBMITGPUMS, dst); return this; }
+        /** Copies the {@code m_flPostSubmitGpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flPostSubmitGpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLPOSTSUBMITGPUMS, dst); return this; }
+        /** Copies the {@code m_flTotalRenderGpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flTotalRenderGpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLTOTALRENDERGPUMS, dst); return this; }
+        /** Copies the {@code m_flTotalRenderGpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flTotalRenderGpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLTOTALRENDERGPUMS, dst); return this; }
+        /** Copies the {@code m_flCompositorRenderGpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flCompositorRenderGpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORRENDERGPUMS, dst); return this; }
+        /** Copies the {@code m_flCompositorRenderGpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flCompositorRenderGpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORRENDERGPUMS, dst); return this; }
+        /** Copies the {@code m_flCompositorRenderCpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flCompositorRenderCpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORRENDERCPUMS, dst); return this; }
+        /** Copies the {@code m_flCompositorRenderCpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flCompositorRenderCpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORRENDERCPUMS, dst); return this; }
+        /** Copies the {@code m_flCompositorIdleCpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flCompositorIdleCpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORIDLECPUMS, dst); return this; }
+        /** Copies the {@code m_flCompositorIdleCpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flCompositorIdleCpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORIDLECPUMS, dst); return this; }
+        /** Copies the {@code m_flClientFrameIntervalMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flClientFrameIntervalMs(float[] dst) { gather(CompositorFrameTiming.M_FLCLIENTFRAMEINTERVALMS, dst); return this; }
+        /** Copies the {@code m_flClientFrameIntervalMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flClientFrameIntervalMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCLIENTFRAMEINTERVALMS, dst); return this; }
+        /** Copies the {@code m_flPresentCallCpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flPresentCallCpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLPRESENTCALLCPUMS, dst); return this; }
+        /** Copies the {@code m_flPresentCallCpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flPresentCallCpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLPRESENTCALLCPUMS, dst); return this; }
+        /** Copies the {@code m_flWaitForPresentCpuMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flWaitForPresentCpuMs(float[] dst) { gather(CompositorFrameTiming.M_FLWAITFORPRESENTCPUMS, dst); return this; }
+        /** Copies the {@code m_flWaitForPresentCpuMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flWaitForPresentCpuMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLWAITFORPRESENTCPUMS, dst); return this; }
+        /** Copies the {@code m_flSubmitFrameMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flSubmitFrameMs(float[] dst) { gather(CompositorFrameTiming.M_FLSUBMITFRAMEMS, dst); return this; }
+        /** Copies the {@code m_flSubmitFrameMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flSubmitFrameMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLSUBMITFRAMEMS, dst); return this; }
+        /** Copies the {@code m_flWaitGetPosesCalledMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flWaitGetPosesCalledMs(float[] dst) { gather(CompositorFrameTiming.M_FLWAITGETPOSESCALLEDMS, dst); return this; }
+        /** Copies the {@code m_flWaitGetPosesCalledMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flWaitGetPosesCalledMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLWAITGETPOSESCALLEDMS, dst); return this; }
+        /** Copies the {@code m_flNewPosesReadyMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flNewPosesReadyMs(float[] dst) { gather(CompositorFrameTiming.M_FLNEWPOSESREADYMS, dst); return this; }
+        /** Copies the {@code m_flNewPosesReadyMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flNewPosesReadyMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLNEWPOSESREADYMS, dst); return this; }
+        /** Copies the {@code m_flNewFrameReadyMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flNewFrameReadyMs(float[] dst) { gather(CompositorFrameTiming.M_FLNEWFRAMEREADYMS, dst); return this; }
+        /** Copies the {@code m_flNewFrameReadyMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flNewFrameReadyMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLNEWFRAMEREADYMS, dst); return this; }
+        /** Copies the {@code m_flCompositorUpdateStartMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flCompositorUpdateStartMs(float[] dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORUPDATESTARTMS, dst); return this; }
+        /** Copies the {@code m_flCompositorUpdateStartMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flCompositorUpdateStartMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORUPDATESTARTMS, dst); return this; }
+        /** Copies the {@code m_flCompositorUpdateEndMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flCompositorUpdateEndMs(float[] dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORUPDATEENDMS, dst); return this; }
+        /** Copies the {@code m_flCompositorUpdateEndMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flCompositorUpdateEndMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORUPDATEENDMS, dst); return this; }
+        /** Copies the {@code m_flCompositorRenderStartMs} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_flCompositorRenderStartMs(float[] dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORRENDERSTARTMS, dst); return this; }
+        /** Copies the {@code m_flCompositorRenderStartMs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_flCompositorRenderStartMs(FloatBuffer dst) { gather(CompositorFrameTiming.M_FLCOMPOSITORRENDERSTARTMS, dst); return this; }
+        /** Copies the {@code m_nNumVSyncsReadyForUse} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nNumVSyncsReadyForUse(int[] dst) { gather(CompositorFrameTiming.M_NNUMVSYNCSREADYFORUSE, dst); return this; }
+        /** Copies the {@code m_nNumVSyncsReadyForUse} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nNumVSyncsReadyForUse(IntBuffer dst) { gather(CompositorFrameTiming.M_NNUMVSYNCSREADYFORUSE, dst); return this; }
+        /** Copies the {@code m_nNumVSyncsToFirstView} field of the structs between the current position and limit to the specified array. */
+        public CompositorFrameTiming.Buffer getM_nNumVSyncsToFirstView(int[] dst) { gather(CompositorFrameTiming.M_NNUMVSYNCSTOFIRSTVIEW, dst); return this; }
+        /** Copies the {@code m_nNumVSyncsToFirstView} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorFrameTiming.Buffer getM_nNumVSyncsToFirstView(IntBuffer dst) { gather(CompositorFrameTiming.M_NNUMVSYNCSTOFIRSTVIEW, dst); return this; }
+
     }
 
 }
\ No newline at end of file
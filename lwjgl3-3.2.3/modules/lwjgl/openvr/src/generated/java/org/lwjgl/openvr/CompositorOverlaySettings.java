@@ -334,6 +334,24 @@ public class CompositorOverlaySettings extends Struct implements NativeResource
         return wrap(CompositorOverlaySettings.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code CompositorOverlaySettings} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CompositorOverlaySettings malloc(MemoryArena arena) {
+        return wrap(CompositorOverlaySettings.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code CompositorOverlaySettings} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static CompositorOverlaySettings calloc(MemoryArena arena) {
+        return wrap(CompositorOverlaySettings.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link CompositorOverlaySettings.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -372,6 +390,26 @@ public class CompositorOverlaySettings extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link CompositorOverlaySettings.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CompositorOverlaySettings.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link CompositorOverlaySettings.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static CompositorOverlaySettings.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #size}. */
@@ -534,6 +572,96 @@ public class CompositorOverlaySettings extends Struct implements NativeResource
         /** Passes the {@code transform} field to the specified {@link java.util.function.Consumer Consumer}. */
         public CompositorOverlaySettings.Buffer transform(java.util.function.Consumer<HmdMatrix44> consumer) { consumer.accept(transform()); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getSize(int[] dst) { gather(CompositorOverlaySettings.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getSize(IntBuffer dst) { gather(CompositorOverlaySettings.SIZE, dst); return this; }
+        /** Copies the {@code scale} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getScale(float[] dst) { gather(CompositorOverlaySettings.SCALE, dst); return this; }
+        /** Copies the {@code scale} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getScale(FloatBuffer dst) { gather(CompositorOverlaySettings.SCALE, dst); return this; }
+        /** Copies the {@code distance} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getDistance(float[] dst) { gather(CompositorOverlaySettings.DISTANCE, dst); return this; }
+        /** Copies the {@code distance} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getDistance(FloatBuffer dst) { gather(CompositorOverlaySettings.DISTANCE, dst); return this; }
+        /** Copies the {@code alpha} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getAlpha(float[] dst) { gather(CompositorOverlaySettings.ALPHA, dst); return this; }
+        /** Copies the {@code alpha} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getAlpha(FloatBuffer dst) { gather(CompositorOverlaySettings.ALPHA, dst); return this; }
+        /** Copies the {@code uOffset} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getUOffset(float[] dst) { gather(CompositorOverlaySettings.UOFFSET, dst); return this; }
+        /** Copies the {@code uOffset} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getUOffset(FloatBuffer dst) { gather(CompositorOverlaySettings.UOFFSET, dst); return this; }
+        /** Copies the {@code vOffset} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getVOffset(float[] dst) { gather(CompositorOverlaySettings.VOFFSET, dst); return this; }
+        /** Copies the {@code vOffset} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getVOffset(FloatBuffer dst) { gather(CompositorOverlaySettings.VOFFSET, dst); return this; }
+        /** Copies the {@code uScale} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getUScale(float[] dst) { gather(CompositorOverlaySettings.USCALE, dst); return this; }
+        /** Copies the {@code uScale} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getUScale(FloatBuffer dst) { gather(CompositorOverlaySettings.USCALE, dst); return this; }
+        /** Copies the {@code vScale} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getVScale(float[] dst) { gather(CompositorOverlaySettings.VSCALE, dst); return this; }
+        /** Copies the {@code vScale} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getVScale(FloatBuffer dst) { gather(CompositorOverlaySettings.VSCALE, dst); return this; }
+        /** Copies the {@code gridDivs} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getGridDivs(float[] dst) { gather(CompositorOverlaySettings.GRIDDIVS, dst); return this; }
+        /** Copies the {@code gridDivs} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getGridDivs(FloatBuffer dst) { gather(CompositorOverlaySettings.GRIDDIVS, dst); return this; }
+        /** Copies the {@code gridWidth} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getGridWidth(float[] dst) { gather(CompositorOverlaySettings.GRIDWIDTH, dst); return this; }
+        /** Copies the {@code gridWidth} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getGridWidth(FloatBuffer dst) { gather(CompositorOverlaySettings.GRIDWIDTH, dst); return this; }
+        /** Copies the {@code gridScale} field of the structs between the current position and limit to the specified array. */
+        public CompositorOverlaySettings.Buffer getGridScale(float[] dst) { gather(CompositorOverlaySettings.GRIDSCALE, dst); return this; }
+        /** Copies the {@code gridScale} field of the structs between the current position and limit to the specified buffer. */
+        public CompositorOverlaySettings.Buffer getGridScale(FloatBuffer dst) { gather(CompositorOverlaySettings.GRIDSCALE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putSize(int[] src) { scatter(CompositorOverlaySettings.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putSize(IntBuffer src) { scatter(CompositorOverlaySettings.SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code scale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putScale(float[] src) { scatter(CompositorOverlaySettings.SCALE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code scale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putScale(FloatBuffer src) { scatter(CompositorOverlaySettings.SCALE, src); return this; }
+        /** Copies the values in the specified array to the {@code distance} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putDistance(float[] src) { scatter(CompositorOverlaySettings.DISTANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code distance} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putDistance(FloatBuffer src) { scatter(CompositorOverlaySettings.DISTANCE, src); return this; }
+        /** Copies the values in the specified array to the {@code alpha} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putAlpha(float[] src) { scatter(CompositorOverlaySettings.ALPHA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code alpha} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putAlpha(FloatBuffer src) { scatter(CompositorOverlaySettings.ALPHA, src); return this; }
+        /** Copies the values in the specified array to the {@code uOffset} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putUOffset(float[] src) { scatter(CompositorOverlaySettings.UOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code uOffset} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putUOffset(FloatBuffer src) { scatter(CompositorOverlaySettings.UOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code vOffset} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putVOffset(float[] src) { scatter(CompositorOverlaySettings.VOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vOffset} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putVOffset(FloatBuffer src) { scatter(CompositorOverlaySettings.VOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code uScale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putUScale(float[] src) { scatter(CompositorOverlaySettings.USCALE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code uScale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putUScale(FloatBuffer src) { scatter(CompositorOverlaySettings.USCALE, src); return this; }
+        /** Copies the values in the specified array to the {@code vScale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putVScale(float[] src) { scatter(CompositorOverlaySettings.VSCALE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vScale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putVScale(FloatBuffer src) { scatter(CompositorOverlaySettings.VSCALE, src); return this; }
+        /** Copies the values in the specified array to the {@code gridDivs} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putGridDivs(float[] src) { scatter(CompositorOverlaySettings.GRIDDIVS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code gridDivs} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putGridDivs(FloatBuffer src) { scatter(CompositorOverlaySettings.GRIDDIVS, src); return this; }
+        /** Copies the values in the specified array to the {@code gridWidth} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putGridWidth(float[] src) { scatter(CompositorOverlaySettings.GRIDWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code gridWidth} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putGridWidth(FloatBuffer src) { scatter(CompositorOverlaySettings.GRIDWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code gridScale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putGridScale(float[] src) { scatter(CompositorOverlaySettings.GRIDSCALE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code gridScale} field of the structs between the current position and limit. */
+        public CompositorOverlaySettings.Buffer putGridScale(FloatBuffer src) { scatter(CompositorOverlaySettings.GRIDSCALE, src); return this; }
+
     }
 
 }
\ No newline at end of file
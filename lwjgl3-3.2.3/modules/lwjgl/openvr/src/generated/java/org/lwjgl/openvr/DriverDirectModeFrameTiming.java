@@ -197,6 +197,27 @@ public class DriverDirectModeFrameTiming extends Struct {
         @NativeType("uint32_t")
         public int m_nReprojectionFlags() { return DriverDirectModeFrameTiming.nm_nReprojectionFlags(address()); }
 
+        /** Copies the {@code m_nSize} field of the structs between the current position and limit to the specified array. */
+        public DriverDirectModeFrameTiming.Buffer getM_nSize(int[] dst) { gather(DriverDirectModeFrameTiming.M_NSIZE, dst); return this; }
+        /** Copies the {@code m_nSize} field of the structs between the current position and limit to the specified buffer. */
+        public DriverDirectModeFrameTiming.Buffer getM_nSize(IntBuffer dst) { gather(DriverDirectModeFrameTiming.M_NSIZE, dst); return this; }
+        /** Copies the {@code m_nNumFramePresents} field of the structs between the current position and limit to the specified array. */
+        public DriverDirectModeFrameTiming.Buffer getM_nNumFramePresents(int[] dst) { gather(DriverDirectModeFrameTiming.M_NNUMFRAMEPRESENTS, dst); return this; }
+        /** Copies the {@code m_nNumFramePresents} field of the structs between the current position and limit to the specified buffer. */
+        public DriverDirectModeFrameTiming.Buffer getM_nNumFramePresents(IntBuffer dst) { gather(DriverDirectModeFrameTiming.M_NNUMFRAMEPRESENTS, dst); return this; }
+        /** Copies the {@code m_nNumMisPresented} field of the structs between the current position and limit to the specified array. */
+        public DriverDirectModeFrameTiming.Buffer getM_nNumMisPresented(int[] dst) { gather(DriverDirectModeFrameTiming.M_NNUMMISPRESENTED, dst); return this; }
+        /** Copies the {@code m_nNumMisPresented} field of the structs between the current position and limit to the specified buffer. */
+        public DriverDirectModeFrameTiming.Buffer getM_nNumMisPresented(IntBuffer dst) { gather(DriverDirectModeFrameTiming.M_NNUMMISPRESENTED, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFrames} field of the structs between the current position and limit to the specified array. */
+        public DriverDirectModeFrameTiming.Buffer getM_nNumDroppedFrames(int[] dst) { gather(DriverDirectModeFrameTiming.M_NNUMDROPPEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nNumDroppedFrames} field of the structs between the current position and limit to the specified buffer. */
+        public DriverDirectModeFrameTiming.Buffer getM_nNumDroppedFrames(IntBuffer dst) { gather(DriverDirectModeFrameTiming.M_NNUMDROPPEDFRAMES, dst); return this; }
+        /** Copies the {@code m_nReprojectionFlags} field of the structs between the current position and limit to the specified array. */
+        public DriverDirectModeFrameTiming.Buffer getM_nReprojectionFlags(int[] dst) { gather(DriverDirectModeFrameTiming.M_NREPROJECTIONFLAGS, dst); return this; }
+        /** Copies the {@code m_nReprojectionFlags} field of the structs between the current position and limit to the specified buffer. */
+        public DriverDirectModeFrameTiming.Buffer getM_nReprojectionFlags(IntBuffer dst) { gather(DriverDirectModeFrameTiming.M_NREPROJECTIONFLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
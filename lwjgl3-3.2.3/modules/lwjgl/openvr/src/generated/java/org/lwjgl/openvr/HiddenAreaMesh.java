@@ -180,6 +180,24 @@ public class HiddenAreaMesh extends Struct implements NativeResource {
         return wrap(HiddenAreaMesh.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code HiddenAreaMesh} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HiddenAreaMesh malloc(MemoryArena arena) {
+        return wrap(HiddenAreaMesh.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code HiddenAreaMesh} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HiddenAreaMesh calloc(MemoryArena arena) {
+        return wrap(HiddenAreaMesh.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link HiddenAreaMesh.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -218,6 +236,26 @@ public class HiddenAreaMesh extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link HiddenAreaMesh.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HiddenAreaMesh.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link HiddenAreaMesh.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HiddenAreaMesh.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #pVertexData}. */
@@ -271,6 +309,11 @@ public class HiddenAreaMesh extends Struct implements NativeResource {
         @NativeType("uint32_t")
         public int unTriangleCount() { return HiddenAreaMesh.nunTriangleCount(address()); }
 
+        /** Copies the {@code unTriangleCount} field of the structs between the current position and limit to the specified array. */
+        public HiddenAreaMesh.Buffer getUnTriangleCount(int[] dst) { gather(HiddenAreaMesh.UNTRIANGLECOUNT, dst); return this; }
+        /** Copies the {@code unTriangleCount} field of the structs between the current position and limit to the specified buffer. */
+        public HiddenAreaMesh.Buffer getUnTriangleCount(IntBuffer dst) { gather(HiddenAreaMesh.UNTRIANGLECOUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -220,6 +220,24 @@ public class HmdColor extends Struct implements NativeResource {
         return wrap(HmdColor.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code HmdColor} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HmdColor malloc(MemoryArena arena) {
+        return wrap(HmdColor.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code HmdColor} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HmdColor calloc(MemoryArena arena) {
+        return wrap(HmdColor.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link HmdColor.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class HmdColor extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link HmdColor.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HmdColor.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link HmdColor.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HmdColor.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #r}. */
@@ -334,6 +372,40 @@ public class HmdColor extends Struct implements NativeResource {
         /** Sets the specified value to the {@code a} field. */
         public HmdColor.Buffer a(float value) { HmdColor.na(address(), value); return this; }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public HmdColor.Buffer getR(float[] dst) { gather(HmdColor.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public HmdColor.Buffer getR(FloatBuffer dst) { gather(HmdColor.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public HmdColor.Buffer getG(float[] dst) { gather(HmdColor.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public HmdColor.Buffer getG(FloatBuffer dst) { gather(HmdColor.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public HmdColor.Buffer getB(float[] dst) { gather(HmdColor.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public HmdColor.Buffer getB(FloatBuffer dst) { gather(HmdColor.B, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public HmdColor.Buffer getA(float[] dst) { gather(HmdColor.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public HmdColor.Buffer getA(FloatBuffer dst) { gather(HmdColor.A, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code r} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putR(float[] src) { scatter(HmdColor.R, src); return this; }
+        /** Copies the values in the specified buffer to the {@code r} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putR(FloatBuffer src) { scatter(HmdColor.R, src); return this; }
+        /** Copies the values in the specified array to the {@code g} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putG(float[] src) { scatter(HmdColor.G, src); return this; }
+        /** Copies the values in the specified buffer to the {@code g} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putG(FloatBuffer src) { scatter(HmdColor.G, src); return this; }
+        /** Copies the values in the specified array to the {@code b} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putB(float[] src) { scatter(HmdColor.B, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putB(FloatBuffer src) { scatter(HmdColor.B, src); return this; }
+        /** Copies the values in the specified array to the {@code a} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putA(float[] src) { scatter(HmdColor.A, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a} field of the structs between the current position and limit. */
+        public HmdColor.Buffer putA(FloatBuffer src) { scatter(HmdColor.A, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -220,6 +220,24 @@ public class HmdQuaternion extends Struct implements NativeResource {
         return wrap(HmdQuaternion.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code HmdQuaternion} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HmdQuaternion malloc(MemoryArena arena) {
+        return wrap(HmdQuaternion.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code HmdQuaternion} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HmdQuaternion calloc(MemoryArena arena) {
+        return wrap(HmdQuaternion.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link HmdQuaternion.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class HmdQuaternion extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link HmdQuaternion.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HmdQuaternion.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link HmdQuaternion.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HmdQuaternion.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #w}. */
@@ -334,6 +372,40 @@ public class HmdQuaternion extends Struct implements NativeResource {
         /** Sets the specified value to the {@code z} field. */
         public HmdQuaternion.Buffer z(double value) { HmdQuaternion.nz(address(), value); return this; }
 
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternion.Buffer getW(double[] dst) { gather(HmdQuaternion.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternion.Buffer getW(DoubleBuffer dst) { gather(HmdQuaternion.W, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternion.Buffer getX(double[] dst) { gather(HmdQuaternion.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternion.Buffer getX(DoubleBuffer dst) { gather(HmdQuaternion.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternion.Buffer getY(double[] dst) { gather(HmdQuaternion.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternion.Buffer getY(DoubleBuffer dst) { gather(HmdQuaternion.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternion.Buffer getZ(double[] dst) { gather(HmdQuaternion.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternion.Buffer getZ(DoubleBuffer dst) { gather(HmdQuaternion.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putW(double[] src) { scatter(HmdQuaternion.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putW(DoubleBuffer src) { scatter(HmdQuaternion.W, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putX(double[] src) { scatter(HmdQuaternion.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putX(DoubleBuffer src) { scatter(HmdQuaternion.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putY(double[] src) { scatter(HmdQuaternion.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putY(DoubleBuffer src) { scatter(HmdQuaternion.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putZ(double[] src) { scatter(HmdQuaternion.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public HmdQuaternion.Buffer putZ(DoubleBuffer src) { scatter(HmdQuaternion.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
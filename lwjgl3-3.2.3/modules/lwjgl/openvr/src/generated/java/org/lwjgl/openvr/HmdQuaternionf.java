@@ -220,6 +220,24 @@ public class HmdQuaternionf extends Struct implements NativeResource {
         return wrap(HmdQuaternionf.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code HmdQuaternionf} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HmdQuaternionf malloc(MemoryArena arena) {
+        return wrap(HmdQuaternionf.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code HmdQuaternionf} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static HmdQuaternionf calloc(MemoryArena arena) {
+        return wrap(HmdQuaternionf.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link HmdQuaternionf.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class HmdQuaternionf extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link HmdQuaternionf.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HmdQuaternionf.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link HmdQuaternionf.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static HmdQuaternionf.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #w}. */
@@ -334,6 +372,40 @@ public class HmdQuaternionf extends Struct implements NativeResource {
         /** Sets the specified value to the {@code z} field. */
         public HmdQuaternionf.Buffer z(float value) { HmdQuaternionf.nz(address(), value); return this; }
 
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternionf.Buffer getW(float[] dst) { gather(HmdQuaternionf.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternionf.Buffer getW(FloatBuffer dst) { gather(HmdQuaternionf.W, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternionf.Buffer getX(float[] dst) { gather(HmdQuaternionf.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternionf.Buffer getX(FloatBuffer dst) { gather(HmdQuaternionf.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternionf.Buffer getY(float[] dst) { gather(HmdQuaternionf.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternionf.Buffer getY(FloatBuffer dst) { gather(HmdQuaternionf.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public HmdQuaternionf.Buffer getZ(float[] dst) { gather(HmdQuaternionf.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public HmdQuaternionf.Buffer getZ(FloatBuffer dst) { gather(HmdQuaternionf.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putW(float[] src) { scatter(HmdQuaternionf.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putW(FloatBuffer src) { scatter(HmdQuaternionf.W, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putX(float[] src) { scatter(HmdQuaternionf.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putX(FloatBuffer src) { scatter(HmdQuaternionf.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putY(float[] src) { scatter(HmdQuaternionf.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putY(FloatBuffer src) { scatter(HmdQuaternionf.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putZ(float[] src) { scatter(HmdQuaternionf.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public HmdQuaternionf.Buffer putZ(FloatBuffer src) { scatter(HmdQuaternionf.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
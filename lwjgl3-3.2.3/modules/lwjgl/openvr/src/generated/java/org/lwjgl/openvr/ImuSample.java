@@ -172,6 +172,15 @@ public class ImuSample extends Struct {
         @NativeType("uint32_t")
         public int unOffScaleFlags() { return ImuSample.nunOffScaleFlags(address()); }
 
+        /** Copies the {@code fSampleTime} field of the structs between the current position and limit to the specified array. */
+        public ImuSample.Buffer getFSampleTime(double[] dst) { gather(ImuSample.FSAMPLETIME, dst); return this; }
+        /** Copies the {@code fSampleTime} field of the structs between the current position and limit to the specified buffer. */
+        public ImuSample.Buffer getFSampleTime(DoubleBuffer dst) { gather(ImuSample.FSAMPLETIME, dst); return this; }
+        /** Copies the {@code unOffScaleFlags} field of the structs between the current position and limit to the specified array. */
+        public ImuSample.Buffer getUnOffScaleFlags(int[] dst) { gather(ImuSample.UNOFFSCALEFLAGS, dst); return this; }
+        /** Copies the {@code unOffScaleFlags} field of the structs between the current position and limit to the specified buffer. */
+        public ImuSample.Buffer getUnOffScaleFlags(IntBuffer dst) { gather(ImuSample.UNOFFSCALEFLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class InputAnalogActionData extends Struct implements NativeResource {
         return wrap(InputAnalogActionData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code InputAnalogActionData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputAnalogActionData malloc(MemoryArena arena) {
+        return wrap(InputAnalogActionData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code InputAnalogActionData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputAnalogActionData calloc(MemoryArena arena) {
+        return wrap(InputAnalogActionData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link InputAnalogActionData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class InputAnalogActionData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link InputAnalogActionData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputAnalogActionData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link InputAnalogActionData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputAnalogActionData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #bActive}. */
@@ -348,6 +386,39 @@ public class InputAnalogActionData extends Struct implements NativeResource {
         /** Returns the value of the {@code fUpdateTime} field. */
         public float fUpdateTime() { return InputAnalogActionData.nfUpdateTime(address()); }
 
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getActiveOrigin(long[] dst) { gather(InputAnalogActionData.ACTIVEORIGIN, dst); return this; }
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getActiveOrigin(LongBuffer dst) { gather(InputAnalogActionData.ACTIVEORIGIN, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getX(float[] dst) { gather(InputAnalogActionData.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getX(FloatBuffer dst) { gather(InputAnalogActionData.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getY(float[] dst) { gather(InputAnalogActionData.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getY(FloatBuffer dst) { gather(InputAnalogActionData.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getZ(float[] dst) { gather(InputAnalogActionData.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getZ(FloatBuffer dst) { gather(InputAnalogActionData.Z, dst); return this; }
+        /** Copies the {@code deltaX} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getDeltaX(float[] dst) { gather(InputAnalogActionData.DELTAX, dst); return this; }
+        /** Copies the {@code deltaX} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getDeltaX(FloatBuffer dst) { gather(InputAnalogActionData.DELTAX, dst); return this; }
+        /** Copies the {@code deltaY} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getDeltaY(float[] dst) { gather(InputAnalogActionData.DELTAY, dst); return this; }
+        /** Copies the {@code deltaY} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getDeltaY(FloatBuffer dst) { gather(InputAnalogActionData.DELTAY, dst); return this; }
+        /** Copies the {@code deltaZ} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getDeltaZ(float[] dst) { gather(InputAnalogActionData.DELTAZ, dst); return this; }
+        /** Copies the {@code deltaZ} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getDeltaZ(FloatBuffer dst) { gather(InputAnalogActionData.DELTAZ, dst); return this; }
+        /** Copies the {@code fUpdateTime} field of the structs between the current position and limit to the specified array. */
+        public InputAnalogActionData.Buffer getFUpdateTime(float[] dst) { gather(InputAnalogActionData.FUPDATETIME, dst); return this; }
+        /** Copies the {@code fUpdateTime} field of the structs between the current position and limit to the specified buffer. */
+        public InputAnalogActionData.Buffer getFUpdateTime(FloatBuffer dst) { gather(InputAnalogActionData.FUPDATETIME, dst); return this; }
+
     }
 
 }
\ No newline at end of file
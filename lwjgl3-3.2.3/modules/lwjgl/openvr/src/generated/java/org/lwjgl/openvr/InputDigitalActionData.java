@@ -204,6 +204,24 @@ public class InputDigitalActionData extends Struct implements NativeResource {
         return wrap(InputDigitalActionData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code InputDigitalActionData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputDigitalActionData malloc(MemoryArena arena) {
+        return wrap(InputDigitalActionData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code InputDigitalActionData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputDigitalActionData calloc(MemoryArena arena) {
+        return wrap(InputDigitalActionData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link InputDigitalActionData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -242,6 +260,26 @@ public class InputDigitalActionData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link InputDigitalActionData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputDigitalActionData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link InputDigitalActionData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputDigitalActionData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #bActive}. */
@@ -308,6 +346,15 @@ public class InputDigitalActionData extends Struct implements NativeResource {
         /** Returns the value of the {@code fUpdateTime} field. */
         public float fUpdateTime() { return InputDigitalActionData.nfUpdateTime(address()); }
 
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified array. */
+        public InputDigitalActionData.Buffer getActiveOrigin(long[] dst) { gather(InputDigitalActionData.ACTIVEORIGIN, dst); return this; }
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified buffer. */
+        public InputDigitalActionData.Buffer getActiveOrigin(LongBuffer dst) { gather(InputDigitalActionData.ACTIVEORIGIN, dst); return this; }
+        /** Copies the {@code fUpdateTime} field of the structs between the current position and limit to the specified array. */
+        public InputDigitalActionData.Buffer getFUpdateTime(float[] dst) { gather(InputDigitalActionData.FUPDATETIME, dst); return this; }
+        /** Copies the {@code fUpdateTime} field of the structs between the current position and limit to the specified buffer. */
+        public InputDigitalActionData.Buffer getFUpdateTime(FloatBuffer dst) { gather(InputDigitalActionData.FUPDATETIME, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -184,6 +184,24 @@ public class InputOriginInfo extends Struct implements NativeResource {
         return wrap(InputOriginInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code InputOriginInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputOriginInfo malloc(MemoryArena arena) {
+        return wrap(InputOriginInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code InputOriginInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputOriginInfo calloc(MemoryArena arena) {
+        return wrap(InputOriginInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link InputOriginInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -222,6 +240,26 @@ public class InputOriginInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link InputOriginInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputOriginInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link InputOriginInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputOriginInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #devicePath}. */
@@ -284,6 +322,15 @@ public class InputOriginInfo extends Struct implements NativeResource {
         @NativeType("char[128]")
         public String rchRenderModelComponentNameString() { return InputOriginInfo.nrchRenderModelComponentNameString(address()); }
 
+        /** Copies the {@code devicePath} field of the structs between the current position and limit to the specified array. */
+        public InputOriginInfo.Buffer getDevicePath(long[] dst) { gather(InputOriginInfo.DEVICEPATH, dst); return this; }
+        /** Copies the {@code devicePath} field of the structs between the current position and limit to the specified buffer. */
+        public InputOriginInfo.Buffer getDevicePath(LongBuffer dst) { gather(InputOriginInfo.DEVICEPATH, dst); return this; }
+        /** Copies the {@code trackedDeviceIndex} field of the structs between the current position and limit to the specified array. */
+        public InputOriginInfo.Buffer getTrackedDeviceIndex(int[] dst) { gather(InputOriginInfo.TRACKEDDEVICEINDEX, dst); return this; }
+        /** Copies the {@code trackedDeviceIndex} field of the structs between the current position and limit to the specified buffer. */
+        public InputOriginInfo.Buffer getTrackedDeviceIndex(IntBuffer dst) { gather(InputOriginInfo.TRACKEDDEVICEINDEX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class InputPoseActionData extends Struct implements NativeResource {
         return wrap(InputPoseActionData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code InputPoseActionData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputPoseActionData malloc(MemoryArena arena) {
+        return wrap(InputPoseActionData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code InputPoseActionData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputPoseActionData calloc(MemoryArena arena) {
+        return wrap(InputPoseActionData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link InputPoseActionData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class InputPoseActionData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link InputPoseActionData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputPoseActionData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link InputPoseActionData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputPoseActionData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #bActive}. */
@@ -284,6 +322,11 @@ public class InputPoseActionData extends Struct implements NativeResource {
         @NativeType("TrackedDevicePose_t")
         public TrackedDevicePose pose() { return InputPoseActionData.npose(address()); }
 
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified array. */
+        public InputPoseActionData.Buffer getActiveOrigin(long[] dst) { gather(InputPoseActionData.ACTIVEORIGIN, dst); return this; }
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified buffer. */
+        public InputPoseActionData.Buffer getActiveOrigin(LongBuffer dst) { gather(InputPoseActionData.ACTIVEORIGIN, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -181,6 +181,24 @@ public class InputSkeletalActionData extends Struct implements NativeResource {
         return wrap(InputSkeletalActionData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code InputSkeletalActionData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputSkeletalActionData malloc(MemoryArena arena) {
+        return wrap(InputSkeletalActionData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code InputSkeletalActionData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static InputSkeletalActionData calloc(MemoryArena arena) {
+        return wrap(InputSkeletalActionData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link InputSkeletalActionData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -219,6 +237,26 @@ public class InputSkeletalActionData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link InputSkeletalActionData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputSkeletalActionData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link InputSkeletalActionData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static InputSkeletalActionData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #bActive}. */
@@ -271,6 +309,11 @@ public class InputSkeletalActionData extends Struct implements NativeResource {
         @NativeType("VRInputValueHandle_t")
         public long activeOrigin() { return InputSkeletalActionData.nactiveOrigin(address()); }
 
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified array. */
+        public InputSkeletalActionData.Buffer getActiveOrigin(long[] dst) { gather(InputSkeletalActionData.ACTIVEORIGIN, dst); return this; }
+        /** Copies the {@code activeOrigin} field of the structs between the current position and limit to the specified buffer. */
+        public InputSkeletalActionData.Buffer getActiveOrigin(LongBuffer dst) { gather(InputSkeletalActionData.ACTIVEORIGIN, dst); return this; }
+
     }
 
 }
\ No newline at end of file
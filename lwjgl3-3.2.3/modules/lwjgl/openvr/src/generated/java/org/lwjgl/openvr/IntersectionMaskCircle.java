@@ -210,6 +210,24 @@ public class IntersectionMaskCircle extends Struct implements NativeResource {
         return wrap(IntersectionMaskCircle.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code IntersectionMaskCircle} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static IntersectionMaskCircle malloc(MemoryArena arena) {
+        return wrap(IntersectionMaskCircle.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code IntersectionMaskCircle} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static IntersectionMaskCircle calloc(MemoryArena arena) {
+        return wrap(IntersectionMaskCircle.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link IntersectionMaskCircle.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class IntersectionMaskCircle extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link IntersectionMaskCircle.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static IntersectionMaskCircle.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link IntersectionMaskCircle.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static IntersectionMaskCircle.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_flCenterX}. */
@@ -316,6 +354,32 @@ public class IntersectionMaskCircle extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_flRadius} field. */
         public IntersectionMaskCircle.Buffer m_flRadius(float value) { IntersectionMaskCircle.nm_flRadius(address(), value); return this; }
 
+        /** Copies the {@code m_flCenterX} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskCircle.Buffer getM_flCenterX(float[] dst) { gather(IntersectionMaskCircle.M_FLCENTERX, dst); return this; }
+        /** Copies the {@code m_flCenterX} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskCircle.Buffer getM_flCenterX(FloatBuffer dst) { gather(IntersectionMaskCircle.M_FLCENTERX, dst); return this; }
+        /** Copies the {@code m_flCenterY} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskCircle.Buffer getM_flCenterY(float[] dst) { gather(IntersectionMaskCircle.M_FLCENTERY, dst); return this; }
+        /** Copies the {@code m_flCenterY} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskCircle.Buffer getM_flCenterY(FloatBuffer dst) { gather(IntersectionMaskCircle.M_FLCENTERY, dst); return this; }
+        /** Copies the {@code m_flRadius} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskCircle.Buffer getM_flRadius(float[] dst) { gather(IntersectionMaskCircle.M_FLRADIUS, dst); return this; }
+        /** Copies the {@code m_flRadius} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskCircle.Buffer getM_flRadius(FloatBuffer dst) { gather(IntersectionMaskCircle.M_FLRADIUS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_flCenterX} field of the structs between the current position and limit. */
+        public IntersectionMaskCircle.Buffer putM_flCenterX(float[] src) { scatter(IntersectionMaskCircle.M_FLCENTERX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flCenterX} field of the structs between the current position and limit. */
+        public IntersectionMaskCircle.Buffer putM_flCenterX(FloatBuffer src) { scatter(IntersectionMaskCircle.M_FLCENTERX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_flCenterY} field of the structs between the current position and limit. */
+        public IntersectionMaskCircle.Buffer putM_flCenterY(float[] src) { scatter(IntersectionMaskCircle.M_FLCENTERY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flCenterY} field of the structs between the current position and limit. */
+        public IntersectionMaskCircle.Buffer putM_flCenterY(FloatBuffer src) { scatter(IntersectionMaskCircle.M_FLCENTERY, src); return this; }
+        /** Copies the values in the specified array to the {@code m_flRadius} field of the structs between the current position and limit. */
+        public IntersectionMaskCircle.Buffer putM_flRadius(float[] src) { scatter(IntersectionMaskCircle.M_FLRADIUS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flRadius} field of the structs between the current position and limit. */
+        public IntersectionMaskCircle.Buffer putM_flRadius(FloatBuffer src) { scatter(IntersectionMaskCircle.M_FLRADIUS, src); return this; }
+
     }
 
 }
\ No newline at end of file
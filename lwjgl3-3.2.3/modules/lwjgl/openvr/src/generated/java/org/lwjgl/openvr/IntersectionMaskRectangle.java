@@ -220,6 +220,24 @@ public class IntersectionMaskRectangle extends Struct implements NativeResource
         return wrap(IntersectionMaskRectangle.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code IntersectionMaskRectangle} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static IntersectionMaskRectangle malloc(MemoryArena arena) {
+        return wrap(IntersectionMaskRectangle.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code IntersectionMaskRectangle} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static IntersectionMaskRectangle calloc(MemoryArena arena) {
+        return wrap(IntersectionMaskRectangle.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link IntersectionMaskRectangle.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class IntersectionMaskRectangle extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link IntersectionMaskRectangle.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static IntersectionMaskRectangle.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link IntersectionMaskRectangle.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static IntersectionMaskRectangle.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_flTopLeftX}. */
@@ -334,6 +372,40 @@ public class IntersectionMaskRectangle extends Struct implements NativeResource
         /** Sets the specified value to the {@code m_flHeight} field. */
         public IntersectionMaskRectangle.Buffer m_flHeight(float value) { IntersectionMaskRectangle.nm_flHeight(address(), value); return this; }
 
+        /** Copies the {@code m_flTopLeftX} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskRectangle.Buffer getM_flTopLeftX(float[] dst) { gather(IntersectionMaskRectangle.M_FLTOPLEFTX, dst); return this; }
+        /** Copies the {@code m_flTopLeftX} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskRectangle.Buffer getM_flTopLeftX(FloatBuffer dst) { gather(IntersectionMaskRectangle.M_FLTOPLEFTX, dst); return this; }
+        /** Copies the {@code m_flTopLeftY} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskRectangle.Buffer getM_flTopLeftY(float[] dst) { gather(IntersectionMaskRectangle.M_FLTOPLEFTY, dst); return this; }
+        /** Copies the {@code m_flTopLeftY} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskRectangle.Buffer getM_flTopLeftY(FloatBuffer dst) { gather(IntersectionMaskRectangle.M_FLTOPLEFTY, dst); return this; }
+        /** Copies the {@code m_flWidth} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskRectangle.Buffer getM_flWidth(float[] dst) { gather(IntersectionMaskRectangle.M_FLWIDTH, dst); return this; }
+        /** Copies the {@code m_flWidth} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskRectangle.Buffer getM_flWidth(FloatBuffer dst) { gather(IntersectionMaskRectangle.M_FLWIDTH, dst); return this; }
+        /** Copies the {@code m_flHeight} field of the structs between the current position and limit to the specified array. */
+        public IntersectionMaskRectangle.Buffer getM_flHeight(float[] dst) { gather(IntersectionMaskRectangle.M_FLHEIGHT, dst); return this; }
+        /** Copies the {@code m_flHeight} field of the structs between the current position and limit to the specified buffer. */
+        public IntersectionMaskRectangle.Buffer getM_flHeight(FloatBuffer dst) { gather(IntersectionMaskRectangle.M_FLHEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_flTopLeftX} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flTopLeftX(float[] src) { scatter(IntersectionMaskRectangle.M_FLTOPLEFTX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flTopLeftX} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flTopLeftX(FloatBuffer src) { scatter(IntersectionMaskRectangle.M_FLTOPLEFTX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_flTopLeftY} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flTopLeftY(float[] src) { scatter(IntersectionMaskRectangle.M_FLTOPLEFTY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flTopLeftY} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flTopLeftY(FloatBuffer src) { scatter(IntersectionMaskRectangle.M_FLTOPLEFTY, src); return this; }
+        /** Copies the values in the specified array to the {@code m_flWidth} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flWidth(float[] src) { scatter(IntersectionMaskRectangle.M_FLWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flWidth} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flWidth(FloatBuffer src) { scatter(IntersectionMaskRectangle.M_FLWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code m_flHeight} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flHeight(float[] src) { scatter(IntersectionMaskRectangle.M_FLHEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_flHeight} field of the structs between the current position and limit. */
+        public IntersectionMaskRectangle.Buffer putM_flHeight(FloatBuffer src) { scatter(IntersectionMaskRectangle.M_FLHEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
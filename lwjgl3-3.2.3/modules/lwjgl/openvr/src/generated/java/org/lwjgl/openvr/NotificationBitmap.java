@@ -231,6 +231,24 @@ public class NotificationBitmap extends Struct implements NativeResource {
         return wrap(NotificationBitmap.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code NotificationBitmap} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NotificationBitmap malloc(MemoryArena arena) {
+        return wrap(NotificationBitmap.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code NotificationBitmap} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static NotificationBitmap calloc(MemoryArena arena) {
+        return wrap(NotificationBitmap.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link NotificationBitmap.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class NotificationBitmap extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link NotificationBitmap.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NotificationBitmap.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link NotificationBitmap.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static NotificationBitmap.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_pImageData(int) m_pImageData}. */
@@ -374,6 +412,32 @@ public class NotificationBitmap extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_nBytesPerPixel} field. */
         public NotificationBitmap.Buffer m_nBytesPerPixel(@NativeType("int32_t") int value) { NotificationBitmap.nm_nBytesPerPixel(address(), value); return this; }
 
+        /** Copies the {@code m_nWidth} field of the structs between the current position and limit to the specified array. */
+        public NotificationBitmap.Buffer getM_nWidth(int[] dst) { gather(NotificationBitmap.M_NWIDTH, dst); return this; }
+        /** Copies the {@code m_nWidth} field of the structs between the current position and limit to the specified buffer. */
+        public NotificationBitmap.Buffer getM_nWidth(IntBuffer dst) { gather(NotificationBitmap.M_NWIDTH, dst); return this; }
+        /** Copies the {@code m_nHeight} field of the structs between the current position and limit to the specified array. */
+        public NotificationBitmap.Buffer getM_nHeight(int[] dst) { gather(NotificationBitmap.M_NHEIGHT, dst); return this; }
+        /** Copies the {@code m_nHeight} field of the structs between the current position and limit to the specified buffer. */
+        public NotificationBitmap.Buffer getM_nHeight(IntBuffer dst) { gather(NotificationBitmap.M_NHEIGHT, dst); return this; }
+        /** Copies the {@code m_nBytesPerPixel} field of the structs between the current position and limit to the specified array. */
+        public NotificationBitmap.Buffer getM_nBytesPerPixel(int[] dst) { gather(NotificationBitmap.M_NBYTESPERPIXEL, dst); return this; }
+        /** Copies the {@code m_nBytesPerPixel} field of the structs between the current position and limit to the specified buffer. */
+        public NotificationBitmap.Buffer getM_nBytesPerPixel(IntBuffer dst) { gather(NotificationBitmap.M_NBYTESPERPIXEL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_nWidth} field of the structs between the current position and limit. */
+        public NotificationBitmap.Buffer putM_nWidth(int[] src) { scatter(NotificationBitmap.M_NWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nWidth} field of the structs between the current position and limit. */
+        public NotificationBitmap.Buffer putM_nWidth(IntBuffer src) { scatter(NotificationBitmap.M_NWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nHeight} field of the structs between the current position and limit. */
+        public NotificationBitmap.Buffer putM_nHeight(int[] src) { scatter(NotificationBitmap.M_NHEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nHeight} field of the structs between the current position and limit. */
+        public NotificationBitmap.Buffer putM_nHeight(IntBuffer src) { scatter(NotificationBitmap.M_NHEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nBytesPerPixel} field of the structs between the current position and limit. */
+        public NotificationBitmap.Buffer putM_nBytesPerPixel(int[] src) { scatter(NotificationBitmap.M_NBYTESPERPIXEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nBytesPerPixel} field of the structs between the current position and limit. */
+        public NotificationBitmap.Buffer putM_nBytesPerPixel(IntBuffer src) { scatter(NotificationBitmap.M_NBYTESPERPIXEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -206,6 +206,24 @@ public class RenderModel extends Struct implements NativeResource {
         return wrap(RenderModel.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RenderModel} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RenderModel malloc(MemoryArena arena) {
+        return wrap(RenderModel.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RenderModel} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RenderModel calloc(MemoryArena arena) {
+        return wrap(RenderModel.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link RenderModel.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -244,6 +262,26 @@ public class RenderModel extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link RenderModel.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RenderModel.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link RenderModel.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RenderModel.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #rVertexData}. */
@@ -311,6 +349,19 @@ public class RenderModel extends Struct implements NativeResource {
         @NativeType("TextureID_t")
         public int diffuseTextureId() { return RenderModel.ndiffuseTextureId(address()); }
 
+        /** Copies the {@code unVertexCount} field of the structs between the current position and limit to the specified array. */
+        public RenderModel.Buffer getUnVertexCount(int[] dst) { gather(RenderModel.UNVERTEXCOUNT, dst); return this; }
+        /** Copies the {@code unVertexCount} field of the structs between the current position and limit to the specified buffer. */
+        public RenderModel.Buffer getUnVertexCount(IntBuffer dst) { gather(RenderModel.UNVERTEXCOUNT, dst); return this; }
+        /** Copies the {@code unTriangleCount} field of the structs between the current position and limit to the specified array. */
+        public RenderModel.Buffer getUnTriangleCount(int[] dst) { gather(RenderModel.UNTRIANGLECOUNT, dst); return this; }
+        /** Copies the {@code unTriangleCount} field of the structs between the current position and limit to the specified buffer. */
+        public RenderModel.Buffer getUnTriangleCount(IntBuffer dst) { gather(RenderModel.UNTRIANGLECOUNT, dst); return this; }
+        /** Copies the {@code diffuseTextureId} field of the structs between the current position and limit to the specified array. */
+        public RenderModel.Buffer getDiffuseTextureId(int[] dst) { gather(RenderModel.DIFFUSETEXTUREID, dst); return this; }
+        /** Copies the {@code diffuseTextureId} field of the structs between the current position and limit to the specified buffer. */
+        public RenderModel.Buffer getDiffuseTextureId(IntBuffer dst) { gather(RenderModel.DIFFUSETEXTUREID, dst); return this; }
+
     }
 
 }
\ No newline at end of file
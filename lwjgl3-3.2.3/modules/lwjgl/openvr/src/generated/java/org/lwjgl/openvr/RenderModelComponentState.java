@@ -190,6 +190,24 @@ public class RenderModelComponentState extends Struct implements NativeResource
         return wrap(RenderModelComponentState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RenderModelComponentState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RenderModelComponentState malloc(MemoryArena arena) {
+        return wrap(RenderModelComponentState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RenderModelComponentState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RenderModelComponentState calloc(MemoryArena arena) {
+        return wrap(RenderModelComponentState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link RenderModelComponentState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -228,6 +246,26 @@ public class RenderModelComponentState extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link RenderModelComponentState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RenderModelComponentState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link RenderModelComponentState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RenderModelComponentState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mTrackingToComponentRenderModel}. */
@@ -285,6 +323,11 @@ public class RenderModelComponentState extends Struct implements NativeResource
         @NativeType("VRComponentProperties")
         public int uProperties() { return RenderModelComponentState.nuProperties(address()); }
 
+        /** Copies the {@code uProperties} field of the structs between the current position and limit to the specified array. */
+        public RenderModelComponentState.Buffer getUProperties(int[] dst) { gather(RenderModelComponentState.UPROPERTIES, dst); return this; }
+        /** Copies the {@code uProperties} field of the structs between the current position and limit to the specified buffer. */
+        public RenderModelComponentState.Buffer getUProperties(IntBuffer dst) { gather(RenderModelComponentState.UPROPERTIES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -195,6 +195,24 @@ public class RenderModelTextureMap extends Struct implements NativeResource {
         return wrap(RenderModelTextureMap.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RenderModelTextureMap} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RenderModelTextureMap malloc(MemoryArena arena) {
+        return wrap(RenderModelTextureMap.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RenderModelTextureMap} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RenderModelTextureMap calloc(MemoryArena arena) {
+        return wrap(RenderModelTextureMap.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link RenderModelTextureMap.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -233,6 +251,26 @@ public class RenderModelTextureMap extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link RenderModelTextureMap.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RenderModelTextureMap.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link RenderModelTextureMap.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RenderModelTextureMap.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #unWidth}. */
@@ -294,6 +332,15 @@ public class RenderModelTextureMap extends Struct implements NativeResource {
         @NativeType("uint8_t const *")
         public ByteBuffer rubTextureMapData(int capacity) { return RenderModelTextureMap.nrubTextureMapData(address(), capacity); }
 
+        /** Copies the {@code unWidth} field of the structs between the current position and limit to the specified array. */
+        public RenderModelTextureMap.Buffer getUnWidth(short[] dst) { gather(RenderModelTextureMap.UNWIDTH, dst); return this; }
+        /** Copies the {@code unWidth} field of the structs between the current position and limit to the specified buffer. */
+        public RenderModelTextureMap.Buffer getUnWidth(ShortBuffer dst) { gather(RenderModelTextureMap.UNWIDTH, dst); return this; }
+        /** Copies the {@code unHeight} field of the structs between the current position and limit to the specified array. */
+        public RenderModelTextureMap.Buffer getUnHeight(short[] dst) { gather(RenderModelTextureMap.UNHEIGHT, dst); return this; }
+        /** Copies the {@code unHeight} field of the structs between the current position and limit to the specified buffer. */
+        public RenderModelTextureMap.Buffer getUnHeight(ShortBuffer dst) { gather(RenderModelTextureMap.UNHEIGHT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -221,6 +221,24 @@ public class Texture extends Struct implements NativeResource {
         return wrap(Texture.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code Texture} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static Texture malloc(MemoryArena arena) {
+        return wrap(Texture.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code Texture} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static Texture calloc(MemoryArena arena) {
+        return wrap(Texture.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link Texture.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -259,6 +277,26 @@ public class Texture extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link Texture.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static Texture.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link Texture.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static Texture.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #handle}. */
@@ -351,6 +389,24 @@ public class Texture extends Struct implements NativeResource {
         /** Sets the specified value to the {@code eColorSpace} field. */
         public Texture.Buffer eColorSpace(@NativeType("EColorSpace") int value) { Texture.neColorSpace(address(), value); return this; }
 
+        /** Copies the {@code eType} field of the structs between the current position and limit to the specified array. */
+        public Texture.Buffer getEType(int[] dst) { gather(Texture.ETYPE, dst); return this; }
+        /** Copies the {@code eType} field of the structs between the current position and limit to the specified buffer. */
+        public Texture.Buffer getEType(IntBuffer dst) { gather(Texture.ETYPE, dst); return this; }
+        /** Copies the {@code eColorSpace} field of the structs between the current position and limit to the specified array. */
+        public Texture.Buffer getEColorSpace(int[] dst) { gather(Texture.ECOLORSPACE, dst); return this; }
+        /** Copies the {@code eColorSpace} field of the structs between the current position and limit to the specified buffer. */
+        public Texture.Buffer getEColorSpace(IntBuffer dst) { gather(Texture.ECOLORSPACE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code eType} field of the structs between the current position and limit. */
+        public Texture.Buffer putEType(int[] src) { scatter(Texture.ETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code eType} field of the structs between the current position and limit. */
+        public Texture.Buffer putEType(IntBuffer src) { scatter(Texture.ETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code eColorSpace} field of the structs between the current position and limit. */
+        public Texture.Buffer putEColorSpace(int[] src) { scatter(Texture.ECOLORSPACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code eColorSpace} field of the structs between the current position and limit. */
+        public Texture.Buffer putEColorSpace(IntBuffer src) { scatter(Texture.ECOLORSPACE, src); return this; }
+
     }
 
 }
\ No newline at end of file
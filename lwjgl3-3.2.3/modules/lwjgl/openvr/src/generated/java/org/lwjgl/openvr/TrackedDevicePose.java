@@ -263,6 +263,24 @@ public class TrackedDevicePose extends Struct implements NativeResource {
         return wrap(TrackedDevicePose.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code TrackedDevicePose} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static TrackedDevicePose malloc(MemoryArena arena) {
+        return wrap(TrackedDevicePose.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code TrackedDevicePose} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static TrackedDevicePose calloc(MemoryArena arena) {
+        return wrap(TrackedDevicePose.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link TrackedDevicePose.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class TrackedDevicePose extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link TrackedDevicePose.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static TrackedDevicePose.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link TrackedDevicePose.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static TrackedDevicePose.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mDeviceToAbsoluteTracking}. */
@@ -405,6 +443,16 @@ public class TrackedDevicePose extends Struct implements NativeResource {
         /** Sets the specified value to the {@code bDeviceIsConnected} field. */
         public TrackedDevicePose.Buffer bDeviceIsConnected(@NativeType("bool") boolean value) { TrackedDevicePose.nbDeviceIsConnected(address(), value); return this; }
 
+        /** Copies the {@code eTrackingResult} field of the structs between the current position and limit to the specified array. */
+        public TrackedDevicePose.Buffer getETrackingResult(int[] dst) { gather(TrackedDevicePose.ETRACKINGRESULT, dst); return this; }
+        /** Copies the {@code eTrackingResult} field of the structs between the current position and limit to the specified buffer. */
+        public TrackedDevicePose.Buffer getETrackingResult(IntBuffer dst) { gather(TrackedDevicePose.ETRACKINGRESULT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code eTrackingResult} field of the structs between the current position and limit. */
+        public TrackedDevicePose.Buffer putETrackingResult(int[] src) { scatter(TrackedDevicePose.ETRACKINGRESULT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code eTrackingResult} field of the structs between the current position and limit. */
+        public TrackedDevicePose.Buffer putETrackingResult(IntBuffer src) { scatter(TrackedDevicePose.ETRACKINGRESULT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -3051,6 +3051,8 @@ public class VR {
         EVRDebugError_VRDebugError_Success      = 1,
         EVRDebugError_VRDebugError_BadParameter = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VR.class, "VR_InitInternal,VR_ShutdownInternal,VR_IsHmdPresent,VR_GetGenericInterface,VR_IsRuntimeInstalled,VR_RuntimePath,VR_IsInterfaceVersionValid,VR_GetInitToken,VR_GetVRInitErrorAsSymbol,VR_GetVRInitErrorAsEnglishDescription");
+
     protected VR() {
         throw new UnsupportedOperationException();
     }
@@ -3087,7 +3089,8 @@ public class VR {
     /** Unsafe version of: {@link #VR_InitInternal InitInternal} */
     public static int nVR_InitInternal(long peError, int eType) {
         long __functionAddress = Functions.InitInternal;
-        return invokePI(peError, eType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePI(peError, eType, __functionAddress));
     }
 
     /**
@@ -3114,7 +3117,9 @@ public class VR {
      */
     public static void VR_ShutdownInternal() {
         long __functionAddress = Functions.ShutdownInternal;
+        long __start = FunctionProfiler.start();
         invokeV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ VR_IsHmdPresent ] ---
@@ -3129,7 +3134,8 @@ public class VR {
     @NativeType("bool")
     public static boolean VR_IsHmdPresent() {
         long __functionAddress = Functions.IsHmdPresent;
-        return invokeZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokeZ(__functionAddress));
     }
 
     // --- [ VR_GetGenericInterface ] ---
@@ -3137,7 +3143,8 @@ public class VR {
     /** Unsafe version of: {@link #VR_GetGenericInterface GetGenericInterface} */
     public static long nVR_GetGenericInterface(long pchInterfaceVersion, long peError) {
         long __functionAddress = Functions.GetGenericInterface;
-        return invokePPP(pchInterfaceVersion, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPP(pchInterfaceVersion, peError, __functionAddress));
     }
 
     /**
@@ -3184,7 +3191,8 @@ public class VR {
     @NativeType("bool")
     public static boolean VR_IsRuntimeInstalled() {
         long __functionAddress = Functions.IsRuntimeInstalled;
-        return invokeZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokeZ(__functionAddress));
     }
 
     // --- [ VR_RuntimePath ] ---
@@ -3192,7 +3200,8 @@ public class VR {
     /** Unsafe version of: {@link #VR_RuntimePath RuntimePath} */
     public static long nVR_RuntimePath() {
         long __functionAddress = Functions.RuntimePath;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokeP(__functionAddress));
     }
 
     /** Returns where the OpenVR runtime is installed. */
@@ -3208,7 +3217,8 @@ public class VR {
     /** Unsafe version of: {@link #VR_IsInterfaceVersionValid IsInterfaceVersionValid} */
     public static boolean nVR_IsInterfaceVersionValid(long pchInterfaceVersion) {
         long __functionAddress = Functions.IsInterfaceVersionValid;
-        return invokePZ(pchInterfaceVersion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePZ(pchInterfaceVersion, __functionAddress));
     }
 
     /**
@@ -3247,7 +3257,8 @@ public class VR {
     @NativeType("uint32_t")
     public static int VR_GetInitToken() {
         long __functionAddress = Functions.GetInitToken;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokeI(__functionAddress));
     }
 
     // --- [ VR_GetVRInitErrorAsSymbol ] ---
@@ -3255,7 +3266,8 @@ public class VR {
     /** Unsafe version of: {@link #VR_GetVRInitErrorAsSymbol GetVRInitErrorAsSymbol} */
     public static long nVR_GetVRInitErrorAsSymbol(int error) {
         long __functionAddress = Functions.GetVRInitErrorAsSymbol;
-        return invokeP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokeP(error, __functionAddress));
     }
 
     /**
@@ -3275,7 +3287,8 @@ public class VR {
     /** Unsafe version of: {@link #VR_GetVRInitErrorAsEnglishDescription GetVRInitErrorAsEnglishDescription} */
     public static long nVR_GetVRInitErrorAsEnglishDescription(int error) {
         long __functionAddress = Functions.GetVRInitErrorAsEnglishDescription;
-        return invokeP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokeP(error, __functionAddress));
     }
 
     /**
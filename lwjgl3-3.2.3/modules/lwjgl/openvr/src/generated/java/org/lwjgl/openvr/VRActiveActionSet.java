@@ -239,6 +239,24 @@ public class VRActiveActionSet extends Struct implements NativeResource {
         return wrap(VRActiveActionSet.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VRActiveActionSet} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRActiveActionSet malloc(MemoryArena arena) {
+        return wrap(VRActiveActionSet.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VRActiveActionSet} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRActiveActionSet calloc(MemoryArena arena) {
+        return wrap(VRActiveActionSet.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VRActiveActionSet.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VRActiveActionSet extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VRActiveActionSet.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRActiveActionSet.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VRActiveActionSet.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRActiveActionSet.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ulActionSet}. */
@@ -357,6 +395,40 @@ public class VRActiveActionSet extends Struct implements NativeResource {
         /** Sets the specified value to the {@code nPriority} field. */
         public VRActiveActionSet.Buffer nPriority(@NativeType("int32_t") int value) { VRActiveActionSet.nnPriority(address(), value); return this; }
 
+        /** Copies the {@code ulActionSet} field of the structs between the current position and limit to the specified array. */
+        public VRActiveActionSet.Buffer getUlActionSet(long[] dst) { gather(VRActiveActionSet.ULACTIONSET, dst); return this; }
+        /** Copies the {@code ulActionSet} field of the structs between the current position and limit to the specified buffer. */
+        public VRActiveActionSet.Buffer getUlActionSet(LongBuffer dst) { gather(VRActiveActionSet.ULACTIONSET, dst); return this; }
+        /** Copies the {@code ulRestrictedToDevice} field of the structs between the current position and limit to the specified array. */
+        public VRActiveActionSet.Buffer getUlRestrictedToDevice(long[] dst) { gather(VRActiveActionSet.ULRESTRICTEDTODEVICE, dst); return this; }
+        /** Copies the {@code ulRestrictedToDevice} field of the structs between the current position and limit to the specified buffer. */
+        public VRActiveActionSet.Buffer getUlRestrictedToDevice(LongBuffer dst) { gather(VRActiveActionSet.ULRESTRICTEDTODEVICE, dst); return this; }
+        /** Copies the {@code ulSecondaryActionSet} field of the structs between the current position and limit to the specified array. */
+        public VRActiveActionSet.Buffer getUlSecondaryActionSet(long[] dst) { gather(VRActiveActionSet.ULSECONDARYACTIONSET, dst); return this; }
+        /** Copies the {@code ulSecondaryActionSet} field of the structs between the current position and limit to the specified buffer. */
+        public VRActiveActionSet.Buffer getUlSecondaryActionSet(LongBuffer dst) { gather(VRActiveActionSet.ULSECONDARYACTIONSET, dst); return this; }
+        /** Copies the {@code nPriority} field of the structs between the current position and limit to the specified array. */
+        public VRActiveActionSet.Buffer getNPriority(int[] dst) { gather(VRActiveActionSet.NPRIORITY, dst); return this; }
+        /** Copies the {@code nPriority} field of the structs between the current position and limit to the specified buffer. */
+        public VRActiveActionSet.Buffer getNPriority(IntBuffer dst) { gather(VRActiveActionSet.NPRIORITY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code ulActionSet} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putUlActionSet(long[] src) { scatter(VRActiveActionSet.ULACTIONSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ulActionSet} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putUlActionSet(LongBuffer src) { scatter(VRActiveActionSet.ULACTIONSET, src); return this; }
+        /** Copies the values in the specified array to the {@code ulRestrictedToDevice} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putUlRestrictedToDevice(long[] src) { scatter(VRActiveActionSet.ULRESTRICTEDTODEVICE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ulRestrictedToDevice} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putUlRestrictedToDevice(LongBuffer src) { scatter(VRActiveActionSet.ULRESTRICTEDTODEVICE, src); return this; }
+        /** Copies the values in the specified array to the {@code ulSecondaryActionSet} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putUlSecondaryActionSet(long[] src) { scatter(VRActiveActionSet.ULSECONDARYACTIONSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ulSecondaryActionSet} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putUlSecondaryActionSet(LongBuffer src) { scatter(VRActiveActionSet.ULSECONDARYACTIONSET, src); return this; }
+        /** Copies the values in the specified array to the {@code nPriority} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putNPriority(int[] src) { scatter(VRActiveActionSet.NPRIORITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nPriority} field of the structs between the current position and limit. */
+        public VRActiveActionSet.Buffer putNPriority(IntBuffer src) { scatter(VRActiveActionSet.NPRIORITY, src); return this; }
+
     }
 
 }
\ No newline at end of file
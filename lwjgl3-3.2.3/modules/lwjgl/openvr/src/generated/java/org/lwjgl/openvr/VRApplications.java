@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Application management. */
 public class VRApplications {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRApplications.class, "VRApplications_AddApplicationManifest,VRApplications_RemoveApplicationManifest,VRApplications_IsApplicationInstalled,VRApplications_GetApplicationCount,VRApplications_GetApplicationKeyByIndex,VRApplications_GetApplicationKeyByProcessId,VRApplications_LaunchApplication,VRApplications_LaunchTemplateApplication,VRApplications_LaunchApplicationFromMimeType,VRApplications_LaunchDashboardOverlay,VRApplications_CancelApplicationLaunch,VRApplications_IdentifyApplication,VRApplications_GetApplicationProcessId,VRApplications_GetApplicationsErrorNameFromEnum,VRApplications_GetApplicationPropertyString,VRApplications_GetApplicationPropertyBool,VRApplications_GetApplicationPropertyUint64,VRApplications_SetApplicationAutoLaunch,VRApplications_GetApplicationAutoLaunch,VRApplications_SetDefaultApplicationForMimeType,VRApplications_GetDefaultApplicationForMimeType,VRApplications_GetApplicationSupportedMimeTypes,VRApplications_GetApplicationsThatSupportMimeType,VRApplications_GetApplicationLaunchArguments,VRApplications_GetStartingApplication,VRApplications_GetTransitionState,VRApplications_PerformApplicationPrelaunchCheck,VRApplications_GetApplicationsTransitionStateNameFromEnum,VRApplications_IsQuitUserPromptRequested,VRApplications_LaunchInternalProcess,VRApplications_GetCurrentSceneProcessId");
+
     protected VRApplications() {
         throw new UnsupportedOperationException();
     }
@@ -31,7 +33,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchApplicationManifestFullPath, bTemporary, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pchApplicationManifestFullPath, bTemporary, __functionAddress));
     }
 
     /**
@@ -72,7 +75,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchApplicationManifestFullPath, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(pchApplicationManifestFullPath, __functionAddress));
     }
 
     /** Removes an application manifest from the list to load when building the list of installed applications. */
@@ -105,7 +109,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPZ(pchAppKey, __functionAddress));
     }
 
     /** Returns true if an application is installed. */
@@ -139,7 +144,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callI(__functionAddress));
     }
 
     // --- [ VRApplications_GetApplicationKeyByIndex ] ---
@@ -150,7 +156,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unApplicationIndex, pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(unApplicationIndex, pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress));
     }
 
     /**
@@ -170,7 +177,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unProcessId, pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(unProcessId, pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress));
     }
 
     /** Returns the key of the application for the specified Process Id. The buffer should be at least {@link VR#k_unMaxApplicationKeyLength} in order to fit the key. */
@@ -187,7 +195,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPI(pchAppKey, __functionAddress));
     }
 
     /**
@@ -229,7 +238,8 @@ public class VRApplications {
             check(__functionAddress);
             AppOverrideKeys.validate(pKeys, unKeys);
         }
-        return callPPPI(pchTemplateAppKey, pchNewAppKey, pKeys, unKeys, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPI(pchTemplateAppKey, pchNewAppKey, pKeys, unKeys, __functionAddress));
     }
 
     /**
@@ -271,7 +281,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchMimeType, pchArgs, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(pchMimeType, pchArgs, __functionAddress));
     }
 
     /**
@@ -313,7 +324,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPI(pchAppKey, __functionAddress));
     }
 
     /** Launches the dashboard overlay application if it is not already running. This call is only valid for dashboard overlay applications. */
@@ -346,7 +358,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPZ(pchAppKey, __functionAddress));
     }
 
     /** Cancel a pending launch for an application. */
@@ -379,7 +392,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unProcessId, pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPI(unProcessId, pchAppKey, __functionAddress));
     }
 
     /**
@@ -420,7 +434,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPI(pchAppKey, __functionAddress));
     }
 
     /** Returns the process ID for an application. Return 0 if the application was not found or is not running. */
@@ -453,7 +468,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callP(error, __functionAddress));
     }
 
     /**
@@ -476,7 +492,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchAppKey, eProperty, pchPropertyValueBuffer, unPropertyValueBufferLen, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPI(pchAppKey, eProperty, pchPropertyValueBuffer, unPropertyValueBufferLen, peError, __functionAddress));
     }
 
     /**
@@ -553,7 +570,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pchAppKey, eProperty, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPZ(pchAppKey, eProperty, peError, __functionAddress));
     }
 
     /**
@@ -598,7 +616,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPJ(pchAppKey, eProperty, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPJ(pchAppKey, eProperty, peError, __functionAddress));
     }
 
     /**
@@ -643,7 +662,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchAppKey, bAutoLaunch, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPI(pchAppKey, bAutoLaunch, __functionAddress));
     }
 
     /**
@@ -682,7 +702,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPZ(pchAppKey, __functionAddress));
     }
 
     /**
@@ -721,7 +742,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchAppKey, pchMimeType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPI(pchAppKey, pchMimeType, __functionAddress));
     }
 
     /** Adds this mime-type to the list of supported mime types for this application. */
@@ -757,7 +779,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pchMimeType, pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPPZ(pchMimeType, pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress));
     }
 
     /** Return the app key that will open this mime type. */
@@ -790,7 +813,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pchAppKey, pchMimeTypesBuffer, unMimeTypesBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPZ(pchAppKey, pchMimeTypesBuffer, unMimeTypesBuffer, __functionAddress));
     }
 
     /** Get the list of supported mime types for this application, comma-delimited. */
@@ -823,7 +847,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchMimeType, pchAppKeysThatSupportBuffer, unAppKeysThatSupportBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPPI(pchMimeType, pchAppKeysThatSupportBuffer, unAppKeysThatSupportBuffer, __functionAddress));
     }
 
     /** Get the list of app-keys that support this mime type, comma-delimited, the return value is number of bytes you need to return the full string. */
@@ -871,7 +896,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unHandle, pchArgs, unArgs, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPI(unHandle, pchArgs, unArgs, __functionAddress));
     }
 
     /** Get the args list from an app launch that had the process already running, you call this when you get a {@link VR#EVREventType_VREvent_ApplicationMimeTypeLoad}. */
@@ -901,7 +927,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callPI(pchAppKeyBuffer, unAppKeyBufferLen, __functionAddress));
     }
 
     /** Returns the app key for the application that is starting up. */
@@ -919,7 +946,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callI(__functionAddress));
     }
 
     // --- [ VRApplications_PerformApplicationPrelaunchCheck ] ---
@@ -930,7 +958,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchAppKey, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPI(pchAppKey, __functionAddress));
     }
 
     /**
@@ -989,7 +1018,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(state, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callP(state, __functionAddress));
     }
 
     /**
@@ -1013,7 +1043,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callZ(__functionAddress));
     }
 
     // --- [ VRApplications_LaunchInternalProcess ] ---
@@ -1024,7 +1055,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchBinaryPath, pchArguments, pchWorkingDirectory, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPPPI(pchBinaryPath, pchArguments, pchWorkingDirectory, __functionAddress));
     }
 
     /**
@@ -1075,7 +1107,8 @@ public class VRApplications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callI(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -24,6 +24,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class VRChaperone {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRChaperone.class, "VRChaperone_GetCalibrationState,VRChaperone_GetPlayAreaSize,VRChaperone_GetPlayAreaRect,VRChaperone_ReloadInfo,VRChaperone_SetSceneColor,VRChaperone_GetBoundsColor,VRChaperone_AreBoundsVisible,VRChaperone_ForceBoundsVisible");
+
     static { OpenVR.initialize(); }
 
     protected VRChaperone() {
@@ -39,7 +41,8 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callI(__functionAddress));
     }
 
     // --- [ VRChaperone_GetPlayAreaSize ] ---
@@ -50,7 +53,8 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pSizeX, pSizeZ, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPZ(pSizeX, pSizeZ, __functionAddress));
     }
 
     /** Returns the width and depth of the Play Area (formerly named Soft Bounds) in X and Z. Tracking space center(0, 0, 0) is the center of the Play Area. */
@@ -71,7 +75,8 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(rect, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPZ(rect, __functionAddress));
     }
 
     /**
@@ -93,7 +98,9 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ VRChaperone_SetSceneColor ] ---
@@ -107,7 +114,9 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRChaperone_SetSceneColor(color, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Optionally give the chaperone system a hit about the color and brightness in the scene. */
@@ -123,7 +132,9 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pOutputColorArray, nNumOutputColors, flCollisionBoundsFadeDistance, pOutputCameraColor, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Get the current chaperone bounds draw color and brightness. */
@@ -140,7 +151,8 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callZ(__functionAddress));
     }
 
     // --- [ VRChaperone_ForceBoundsVisible ] ---
@@ -151,7 +163,9 @@ public class VRChaperone {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(bForce, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class VRChaperoneSetup {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRChaperoneSetup.class, "VRChaperoneSetup_CommitWorkingCopy,VRChaperoneSetup_RevertWorkingCopy,VRChaperoneSetup_GetWorkingPlayAreaSize,VRChaperoneSetup_GetWorkingPlayAreaRect,VRChaperoneSetup_GetWorkingCollisionBoundsInfo,VRChaperoneSetup_GetLiveCollisionBoundsInfo,VRChaperoneSetup_GetWorkingSeatedZeroPoseToRawTrackingPose,VRChaperoneSetup_GetWorkingStandingZeroPoseToRawTrackingPose,VRChaperoneSetup_SetWorkingPlayAreaSize,VRChaperoneSetup_SetWorkingCollisionBoundsInfo,VRChaperoneSetup_SetWorkingPerimeter,VRChaperoneSetup_SetWorkingSeatedZeroPoseToRawTrackingPose,VRChaperoneSetup_SetWorkingStandingZeroPoseToRawTrackingPose,VRChaperoneSetup_ReloadFromDisk,VRChaperoneSetup_GetLiveSeatedZeroPoseToRawTrackingPose,VRChaperoneSetup_ExportLiveToBuffer,VRChaperoneSetup_ImportFromBufferToWorking,VRChaperoneSetup_ShowWorkingSetPreview,VRChaperoneSetup_HideWorkingSetPreview,VRChaperoneSetup_RoomSetupStarting");
+
     protected VRChaperoneSetup() {
         throw new UnsupportedOperationException();
     }
@@ -38,7 +40,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(configFile, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callZ(configFile, __functionAddress));
     }
 
     // --- [ VRChaperoneSetup_RevertWorkingCopy ] ---
@@ -54,7 +57,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ VRChaperoneSetup_GetWorkingPlayAreaSize ] ---
@@ -65,7 +70,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pSizeX, pSizeZ, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPZ(pSizeX, pSizeZ, __functionAddress));
     }
 
     /**
@@ -89,7 +95,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(rect, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPZ(rect, __functionAddress));
     }
 
     /**
@@ -111,7 +118,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pQuadsBuffer, punQuadsCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPZ(pQuadsBuffer, punQuadsCount, __functionAddress));
     }
 
     /** Returns the number of Quads if the buffer points to null. Otherwise it returns Quads into the buffer up to the max specified from the working copy. */
@@ -132,7 +140,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pQuadsBuffer, punQuadsCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPZ(pQuadsBuffer, punQuadsCount, __functionAddress));
     }
 
     /** Returns the number of Quads if the buffer points to null. Otherwise it returns Quads into the buffer up to the max specified. */
@@ -153,7 +162,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pmatSeatedZeroPoseToRawTrackingPose, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPZ(pmatSeatedZeroPoseToRawTrackingPose, __functionAddress));
     }
 
     /** Returns the preferred seated position from the working copy. */
@@ -170,7 +180,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pmatStandingZeroPoseToRawTrackingPose, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPZ(pmatStandingZeroPoseToRawTrackingPose, __functionAddress));
     }
 
     /** Returns the standing origin from the working copy. */
@@ -187,7 +198,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(sizeX, sizeZ, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ VRChaperoneSetup_SetWorkingCollisionBoundsInfo ] ---
@@ -198,7 +211,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pQuadsBuffer, unQuadsCount, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Sets the Collision Bounds in the working copy. */
@@ -214,7 +229,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pPointBuffer, unPointCount, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Sets the Collision Bounds in the working copy */
@@ -230,7 +247,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pMatSeatedZeroPoseToRawTrackingPose, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /** Sets the preferred seated position in the working copy. */
@@ -246,7 +265,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pMatStandingZeroPoseToRawTrackingPose, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /** Sets the preferred standing position in the working copy. */
@@ -266,7 +287,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(configFile, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ VRChaperoneSetup_GetLiveSeatedZeroPoseToRawTrackingPose ] ---
@@ -277,7 +300,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pmatSeatedZeroPoseToRawTrackingPose, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPZ(pmatSeatedZeroPoseToRawTrackingPose, __functionAddress));
     }
 
     /** Returns the preferred seated position. */
@@ -293,7 +317,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pBuffer, pnBufferLength, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPZ(pBuffer, pnBufferLength, __functionAddress));
     }
 
     @NativeType("bool")
@@ -312,7 +337,8 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pBuffer, nImportFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPZ(pBuffer, nImportFlags, __functionAddress));
     }
 
     @NativeType("bool")
@@ -328,7 +354,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ VRChaperoneSetup_HideWorkingSetPreview ] ---
@@ -339,7 +367,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ VRChaperoneSetup_RoomSetupStarting ] ---
@@ -355,7 +385,9 @@ public class VRChaperoneSetup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Allows the application to interact with the compositor. */
 public class VRCompositor {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRCompositor.class, "VRCompositor_SetTrackingSpace,VRCompositor_GetTrackingSpace,VRCompositor_WaitGetPoses,VRCompositor_GetLastPoses,VRCompositor_GetLastPoseForTrackedDeviceIndex,VRCompositor_Submit,VRCompositor_ClearLastSubmittedFrame,VRCompositor_PostPresentHandoff,VRCompositor_GetFrameTiming,VRCompositor_GetFrameTimings,VRCompositor_GetFrameTimeRemaining,VRCompositor_GetCumulativeStats,VRCompositor_FadeToColor,VRCompositor_GetCurrentFadeColor,VRCompositor_FadeGrid,VRCompositor_GetCurrentGridAlpha,VRCompositor_SetSkyboxOverride,VRCompositor_ClearSkyboxOverride,VRCompositor_CompositorBringToFront,VRCompositor_CompositorGoToBack,VRCompositor_CompositorQuit,VRCompositor_IsFullscreen,VRCompositor_GetCurrentSceneFocusProcess,VRCompositor_GetLastFrameRenderer,VRCompositor_CanRenderScene,VRCompositor_ShowMirrorWindow,VRCompositor_HideMirrorWindow,VRCompositor_IsMirrorWindowVisible,VRCompositor_CompositorDumpImages,VRCompositor_ShouldAppRenderWithLowResources,VRCompositor_ForceInterleavedReprojectionOn,VRCompositor_ForceReconnectProcess,VRCompositor_SuspendRendering,VRCompositor_GetMirrorTextureD3D11,VRCompositor_ReleaseMirrorTextureD3D11,VRCompositor_GetMirrorTextureGL,VRCompositor_ReleaseSharedGLTexture,VRCompositor_LockGLSharedTextureForAccess,VRCompositor_UnlockGLSharedTextureForAccess,VRCompositor_GetVulkanInstanceExtensionsRequired,VRCompositor_GetVulkanDeviceExtensionsRequired,VRCompositor_SetExplicitTimingMode,VRCompositor_SubmitExplicitTimingData,VRCompositor_IsMotionSmoothingEnabled,VRCompositor_IsMotionSmoothingSupported,VRCompositor_IsCurrentSceneFocusAppLoading");
+
     static { OpenVR.initialize(); }
 
     protected VRCompositor() {
@@ -39,7 +41,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(eOrigin, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ VRCompositor_GetTrackingSpace ] ---
@@ -51,7 +55,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(__functionAddress));
     }
 
     // --- [ VRCompositor_WaitGetPoses ] ---
@@ -62,7 +67,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pRenderPoseArray, unRenderPoseArrayCount, pGamePoseArray, unGamePoseArrayCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(pRenderPoseArray, unRenderPoseArrayCount, pGamePoseArray, unGamePoseArrayCount, __functionAddress));
     }
 
     /**
@@ -83,7 +89,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pRenderPoseArray, unRenderPoseArrayCount, pGamePoseArray, unGamePoseArrayCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(pRenderPoseArray, unRenderPoseArrayCount, pGamePoseArray, unGamePoseArrayCount, __functionAddress));
     }
 
     /** Get the last set of poses returned by {@link #VRCompositor_WaitGetPoses WaitGetPoses}. */
@@ -100,7 +107,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(unDeviceIndex, pOutputPose, pOutputGamePose, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(unDeviceIndex, pOutputPose, pOutputGamePose, __functionAddress));
     }
 
     /**
@@ -125,7 +133,8 @@ public class VRCompositor {
             check(__functionAddress);
             Texture.validate(pTexture);
         }
-        return callPPI(eEye, pTexture, pBounds, nSubmitFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(eEye, pTexture, pBounds, nSubmitFlags, __functionAddress));
     }
 
     /**
@@ -165,7 +174,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ VRCompositor_PostPresentHandoff ] ---
@@ -183,7 +194,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ VRCompositor_GetFrameTiming ] ---
@@ -194,7 +207,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pTiming, unFramesAgo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPZ(pTiming, unFramesAgo, __functionAddress));
     }
 
     /**
@@ -215,7 +229,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pTiming, nFrames, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPI(pTiming, nFrames, __functionAddress));
     }
 
     /**
@@ -239,7 +254,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callF(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callF(__functionAddress));
     }
 
     // --- [ VRCompositor_GetCumulativeStats ] ---
@@ -250,7 +266,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pStats, nStatsSizeInBytes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -280,7 +298,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(fSeconds, fRed, fGreen, fBlue, fAlpha, bBackground, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ VRCompositor_GetCurrentFadeColor ] ---
@@ -294,7 +314,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRCompositor_GetCurrentFadeColor(bBackground, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /** Get current fade color value. */
@@ -312,7 +334,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(fSeconds, bFadeIn, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ VRCompositor_GetCurrentGridAlpha ] ---
@@ -323,7 +347,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callF(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callF(__functionAddress));
     }
 
     // --- [ VRCompositor_SetSkyboxOverride ] ---
@@ -335,7 +360,8 @@ public class VRCompositor {
             check(__functionAddress);
             Texture.validate(pTextures, unTextureCount);
         }
-        return callPI(pTextures, unTextureCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPI(pTextures, unTextureCount, __functionAddress));
     }
 
     /**
@@ -357,7 +383,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ VRCompositor_CompositorBringToFront ] ---
@@ -368,7 +396,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ VRCompositor_CompositorGoToBack ] ---
@@ -379,7 +409,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ VRCompositor_CompositorQuit ] ---
@@ -393,7 +425,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ VRCompositor_IsFullscreen ] ---
@@ -405,7 +439,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callZ(__functionAddress));
     }
 
     // --- [ VRCompositor_GetCurrentSceneFocusProcess ] ---
@@ -417,7 +452,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callI(__functionAddress));
     }
 
     // --- [ VRCompositor_GetLastFrameRenderer ] ---
@@ -433,7 +469,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callI(__functionAddress));
     }
 
     // --- [ VRCompositor_CanRenderScene ] ---
@@ -445,7 +482,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callZ(__functionAddress));
     }
 
     // --- [ VRCompositor_ShowMirrorWindow ] ---
@@ -456,7 +494,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ VRCompositor_HideMirrorWindow ] ---
@@ -467,7 +507,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ VRCompositor_IsMirrorWindowVisible ] ---
@@ -479,7 +521,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callZ(__functionAddress));
     }
 
     // --- [ VRCompositor_CompositorDumpImages ] ---
@@ -490,7 +533,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ VRCompositor_ShouldAppRenderWithLowResources ] ---
@@ -502,7 +547,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callZ(__functionAddress));
     }
 
     // --- [ VRCompositor_ForceInterleavedReprojectionOn ] ---
@@ -513,7 +559,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(bOverride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ VRCompositor_ForceReconnectProcess ] ---
@@ -524,7 +572,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ VRCompositor_SuspendRendering ] ---
@@ -535,7 +585,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(bSuspend, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ VRCompositor_GetMirrorTextureD3D11 ] ---
@@ -547,7 +599,8 @@ public class VRCompositor {
             check(__functionAddress);
             check(pD3D11DeviceOrResource);
         }
-        return callPPI(eEye, pD3D11DeviceOrResource, ppD3D11ShaderResourceView, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callPPI(eEye, pD3D11DeviceOrResource, ppD3D11ShaderResourceView, __functionAddress));
     }
 
     /**
@@ -572,7 +625,9 @@ public class VRCompositor {
             check(__functionAddress);
             check(pD3D11ShaderResourceView);
         }
+        long __start = FunctionProfiler.start();
         callPV(pD3D11ShaderResourceView, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ VRCompositor_GetMirrorTextureGL ] ---
@@ -583,7 +638,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(eEye, pglTextureId, pglSharedTextureHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPI(eEye, pglTextureId, pglSharedTextureHandle, __functionAddress));
     }
 
     /** Access to mirror textures from OpenGL. */
@@ -605,7 +661,8 @@ public class VRCompositor {
             check(__functionAddress);
             check(glSharedTextureHandle);
         }
-        return callPZ(glTextureId, glSharedTextureHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callPZ(glTextureId, glSharedTextureHandle, __functionAddress));
     }
 
     // --- [ VRCompositor_LockGLSharedTextureForAccess ] ---
@@ -616,7 +673,9 @@ public class VRCompositor {
             check(__functionAddress);
             check(glSharedTextureHandle);
         }
+        long __start = FunctionProfiler.start();
         callPV(glSharedTextureHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ VRCompositor_UnlockGLSharedTextureForAccess ] ---
@@ -627,7 +686,9 @@ public class VRCompositor {
             check(__functionAddress);
             check(glSharedTextureHandle);
         }
+        long __start = FunctionProfiler.start();
         callPV(glSharedTextureHandle, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ VRCompositor_GetVulkanInstanceExtensionsRequired ] ---
@@ -638,7 +699,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchValue, unBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPI(pchValue, unBufferSize, __functionAddress));
     }
 
     /**
@@ -675,7 +737,8 @@ public class VRCompositor {
             check(__functionAddress);
             check(pPhysicalDevice);
         }
-        return callPPI(pPhysicalDevice, pchValue, unBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPI(pPhysicalDevice, pchValue, unBufferSize, __functionAddress));
     }
 
     /**
@@ -733,7 +796,9 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(eTimingMode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ VRCompositor_SubmitExplicitTimingData ] ---
@@ -754,7 +819,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callI(__functionAddress));
     }
 
     // --- [ VRCompositor_IsMotionSmoothingEnabled ] ---
@@ -771,7 +837,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callZ(__functionAddress));
     }
 
     // --- [ VRCompositor_IsMotionSmoothingSupported ] ---
@@ -783,7 +850,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callZ(__functionAddress));
     }
 
     // --- [ VRCompositor_IsCurrentSceneFocusAppLoading ] ---
@@ -800,7 +868,8 @@ public class VRCompositor {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callZ(__functionAddress));
     }
 
 }
\ No newline at end of file
@@ -209,6 +209,24 @@ public class VRControllerAxis extends Struct implements NativeResource {
         return wrap(VRControllerAxis.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VRControllerAxis} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRControllerAxis malloc(MemoryArena arena) {
+        return wrap(VRControllerAxis.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VRControllerAxis} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRControllerAxis calloc(MemoryArena arena) {
+        return wrap(VRControllerAxis.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VRControllerAxis.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -247,6 +265,26 @@ public class VRControllerAxis extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VRControllerAxis.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRControllerAxis.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VRControllerAxis.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRControllerAxis.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -307,6 +345,24 @@ public class VRControllerAxis extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public VRControllerAxis.Buffer y(float value) { VRControllerAxis.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VRControllerAxis.Buffer getX(float[] dst) { gather(VRControllerAxis.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VRControllerAxis.Buffer getX(FloatBuffer dst) { gather(VRControllerAxis.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VRControllerAxis.Buffer getY(float[] dst) { gather(VRControllerAxis.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VRControllerAxis.Buffer getY(FloatBuffer dst) { gather(VRControllerAxis.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VRControllerAxis.Buffer putX(float[] src) { scatter(VRControllerAxis.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VRControllerAxis.Buffer putX(FloatBuffer src) { scatter(VRControllerAxis.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VRControllerAxis.Buffer putY(float[] src) { scatter(VRControllerAxis.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VRControllerAxis.Buffer putY(FloatBuffer src) { scatter(VRControllerAxis.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
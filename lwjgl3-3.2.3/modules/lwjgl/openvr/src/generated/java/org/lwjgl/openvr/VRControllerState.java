@@ -244,6 +244,24 @@ public class VRControllerState extends Struct implements NativeResource {
         return wrap(VRControllerState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VRControllerState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRControllerState malloc(MemoryArena arena) {
+        return wrap(VRControllerState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VRControllerState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRControllerState calloc(MemoryArena arena) {
+        return wrap(VRControllerState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VRControllerState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -282,6 +300,26 @@ public class VRControllerState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VRControllerState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRControllerState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VRControllerState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRControllerState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #unPacketNum}. */
@@ -382,6 +420,32 @@ public class VRControllerState extends Struct implements NativeResource {
         /** Passes the element at {@code index} of the {@code rAxis} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VRControllerState.Buffer rAxis(int index, java.util.function.Consumer<VRControllerAxis> consumer) { consumer.accept(rAxis(index)); return this; }
 
+        /** Copies the {@code unPacketNum} field of the structs between the current position and limit to the specified array. */
+        public VRControllerState.Buffer getUnPacketNum(int[] dst) { gather(VRControllerState.UNPACKETNUM, dst); return this; }
+        /** Copies the {@code unPacketNum} field of the structs between the current position and limit to the specified buffer. */
+        public VRControllerState.Buffer getUnPacketNum(IntBuffer dst) { gather(VRControllerState.UNPACKETNUM, dst); return this; }
+        /** Copies the {@code ulButtonPressed} field of the structs between the current position and limit to the specified array. */
+        public VRControllerState.Buffer getUlButtonPressed(long[] dst) { gather(VRControllerState.ULBUTTONPRESSED, dst); return this; }
+        /** Copies the {@code ulButtonPressed} field of the structs between the current position and limit to the specified buffer. */
+        public VRControllerState.Buffer getUlButtonPressed(LongBuffer dst) { gather(VRControllerState.ULBUTTONPRESSED, dst); return this; }
+        /** Copies the {@code ulButtonTouched} field of the structs between the current position and limit to the specified array. */
+        public VRControllerState.Buffer getUlButtonTouched(long[] dst) { gather(VRControllerState.ULBUTTONTOUCHED, dst); return this; }
+        /** Copies the {@code ulButtonTouched} field of the structs between the current position and limit to the specified buffer. */
+        public VRControllerState.Buffer getUlButtonTouched(LongBuffer dst) { gather(VRControllerState.ULBUTTONTOUCHED, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code unPacketNum} field of the structs between the current position and limit. */
+        public VRControllerState.Buffer putUnPacketNum(int[] src) { scatter(VRControllerState.UNPACKETNUM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code unPacketNum} field of the structs between the current position and limit. */
+        public VRControllerState.Buffer putUnPacketNum(IntBuffer src) { scatter(VRControllerState.UNPACKETNUM, src); return this; }
+        /** Copies the values in the specified array to the {@code ulButtonPressed} field of the structs between the current position and limit. */
+        public VRControllerState.Buffer putUlButtonPressed(long[] src) { scatter(VRControllerState.ULBUTTONPRESSED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ulButtonPressed} field of the structs between the current position and limit. */
+        public VRControllerState.Buffer putUlButtonPressed(LongBuffer src) { scatter(VRControllerState.ULBUTTONPRESSED, src); return this; }
+        /** Copies the values in the specified array to the {@code ulButtonTouched} field of the structs between the current position and limit. */
+        public VRControllerState.Buffer putUlButtonTouched(long[] src) { scatter(VRControllerState.ULBUTTONTOUCHED, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ulButtonTouched} field of the structs between the current position and limit. */
+        public VRControllerState.Buffer putUlButtonTouched(LongBuffer src) { scatter(VRControllerState.ULBUTTONTOUCHED, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRDebug {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRDebug.class, "VRDebug_EmitVrProfilerEvent,VRDebug_BeginVrProfilerEvent,VRDebug_FinishVrProfilerEvent,VRDebug_DriverDebugRequest");
+
     protected VRDebug() {
         throw new UnsupportedOperationException();
     }
@@ -27,7 +29,8 @@ public class VRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pchMessage, __functionAddress));
     }
 
     /**
@@ -51,7 +54,8 @@ public class VRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pHandleOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(pHandleOut, __functionAddress));
     }
 
     /**
@@ -76,7 +80,8 @@ public class VRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(hHandle, pchMessage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callJPI(hHandle, pchMessage, __functionAddress));
     }
 
     /**
@@ -101,7 +106,8 @@ public class VRDebug {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(unDeviceIndex, pchRequest, pchResponseBuffer, unResponseBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(unDeviceIndex, pchRequest, pchResponseBuffer, unResponseBufferSize, __functionAddress));
     }
 
     /**
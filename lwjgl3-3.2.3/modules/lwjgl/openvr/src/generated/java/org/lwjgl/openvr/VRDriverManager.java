@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRDriverManager {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRDriverManager.class, "VRDriverManager_GetDriverCount,VRDriverManager_GetDriverName,VRDriverManager_GetDriverHandle,VRDriverManager_IsEnabled");
+
     protected VRDriverManager() {
         throw new UnsupportedOperationException();
     }
@@ -30,7 +32,8 @@ public class VRDriverManager {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callI(__functionAddress));
     }
 
     // --- [ VRDriverManager_GetDriverName ] ---
@@ -41,7 +44,8 @@ public class VRDriverManager {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(nDriver, pchValue, unBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(nDriver, pchValue, unBufferSize, __functionAddress));
     }
 
     /** @return the length of the number of bytes necessary to hold this string including the trailing null */
@@ -71,7 +75,8 @@ public class VRDriverManager {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJ(pchDriverName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJ(pchDriverName, __functionAddress));
     }
 
     /**
@@ -112,7 +117,8 @@ public class VRDriverManager {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(nDriver, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callZ(nDriver, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -201,6 +201,24 @@ public class VREvent extends Struct implements NativeResource {
         return wrap(VREvent.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VREvent} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VREvent malloc(MemoryArena arena) {
+        return wrap(VREvent.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VREvent} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VREvent calloc(MemoryArena arena) {
+        return wrap(VREvent.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VREvent.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class VREvent extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VREvent.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VREvent.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VREvent.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VREvent.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #eventType}. */
@@ -300,6 +338,19 @@ public class VREvent extends Struct implements NativeResource {
         @NativeType("VREvent_Data_t")
         public VREventData data() { return VREvent.ndata(address()); }
 
+        /** Copies the {@code eventType} field of the structs between the current position and limit to the specified array. */
+        public VREvent.Buffer getEventType(int[] dst) { gather(VREvent.EVENTTYPE, dst); return this; }
+        /** Copies the {@code eventType} field of the structs between the current position and limit to the specified buffer. */
+        public VREvent.Buffer getEventType(IntBuffer dst) { gather(VREvent.EVENTTYPE, dst); return this; }
+        /** Copies the {@code trackedDeviceIndex} field of the structs between the current position and limit to the specified array. */
+        public VREvent.Buffer getTrackedDeviceIndex(int[] dst) { gather(VREvent.TRACKEDDEVICEINDEX, dst); return this; }
+        /** Copies the {@code trackedDeviceIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VREvent.Buffer getTrackedDeviceIndex(IntBuffer dst) { gather(VREvent.TRACKEDDEVICEINDEX, dst); return this; }
+        /** Copies the {@code eventAgeSeconds} field of the structs between the current position and limit to the specified array. */
+        public VREvent.Buffer getEventAgeSeconds(float[] dst) { gather(VREvent.EVENTAGESECONDS, dst); return this; }
+        /** Copies the {@code eventAgeSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public VREvent.Buffer getEventAgeSeconds(FloatBuffer dst) { gather(VREvent.EVENTAGESECONDS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -150,6 +150,15 @@ public class VREventApplicationLaunch extends Struct {
         @NativeType("uint32_t")
         public int unArgsHandle() { return VREventApplicationLaunch.nunArgsHandle(address()); }
 
+        /** Copies the {@code pid} field of the structs between the current position and limit to the specified array. */
+        public VREventApplicationLaunch.Buffer getPid(int[] dst) { gather(VREventApplicationLaunch.PID, dst); return this; }
+        /** Copies the {@code pid} field of the structs between the current position and limit to the specified buffer. */
+        public VREventApplicationLaunch.Buffer getPid(IntBuffer dst) { gather(VREventApplicationLaunch.PID, dst); return this; }
+        /** Copies the {@code unArgsHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventApplicationLaunch.Buffer getUnArgsHandle(int[] dst) { gather(VREventApplicationLaunch.UNARGSHANDLE, dst); return this; }
+        /** Copies the {@code unArgsHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventApplicationLaunch.Buffer getUnArgsHandle(IntBuffer dst) { gather(VREventApplicationLaunch.UNARGSHANDLE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
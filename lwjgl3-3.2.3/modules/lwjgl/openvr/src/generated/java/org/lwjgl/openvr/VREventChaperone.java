@@ -150,6 +150,15 @@ public class VREventChaperone extends Struct {
         @NativeType("uint64_t")
         public long m_nCurrentUniverse() { return VREventChaperone.nm_nCurrentUniverse(address()); }
 
+        /** Copies the {@code m_nPreviousUniverse} field of the structs between the current position and limit to the specified array. */
+        public VREventChaperone.Buffer getM_nPreviousUniverse(long[] dst) { gather(VREventChaperone.M_NPREVIOUSUNIVERSE, dst); return this; }
+        /** Copies the {@code m_nPreviousUniverse} field of the structs between the current position and limit to the specified buffer. */
+        public VREventChaperone.Buffer getM_nPreviousUniverse(LongBuffer dst) { gather(VREventChaperone.M_NPREVIOUSUNIVERSE, dst); return this; }
+        /** Copies the {@code m_nCurrentUniverse} field of the structs between the current position and limit to the specified array. */
+        public VREventChaperone.Buffer getM_nCurrentUniverse(long[] dst) { gather(VREventChaperone.M_NCURRENTUNIVERSE, dst); return this; }
+        /** Copies the {@code m_nCurrentUniverse} field of the structs between the current position and limit to the specified buffer. */
+        public VREventChaperone.Buffer getM_nCurrentUniverse(LongBuffer dst) { gather(VREventChaperone.M_NCURRENTUNIVERSE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
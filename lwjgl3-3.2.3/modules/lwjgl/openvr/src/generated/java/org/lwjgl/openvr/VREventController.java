@@ -146,6 +146,11 @@ public class VREventController extends Struct {
         @NativeType("uint32_t")
         public int button() { return VREventController.nbutton(address()); }
 
+        /** Copies the {@code button} field of the structs between the current position and limit to the specified array. */
+        public VREventController.Buffer getButton(int[] dst) { gather(VREventController.BUTTON, dst); return this; }
+        /** Copies the {@code button} field of the structs between the current position and limit to the specified buffer. */
+        public VREventController.Buffer getButton(IntBuffer dst) { gather(VREventController.BUTTON, dst); return this; }
+
     }
 
 }
\ No newline at end of file
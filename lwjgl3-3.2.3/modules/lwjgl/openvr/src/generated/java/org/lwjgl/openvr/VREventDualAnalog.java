@@ -187,6 +187,27 @@ public class VREventDualAnalog extends Struct {
         @NativeType("EDualAnalogWhich")
         public int which() { return VREventDualAnalog.nwhich(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VREventDualAnalog.Buffer getX(float[] dst) { gather(VREventDualAnalog.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VREventDualAnalog.Buffer getX(FloatBuffer dst) { gather(VREventDualAnalog.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VREventDualAnalog.Buffer getY(float[] dst) { gather(VREventDualAnalog.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VREventDualAnalog.Buffer getY(FloatBuffer dst) { gather(VREventDualAnalog.Y, dst); return this; }
+        /** Copies the {@code transformedX} field of the structs between the current position and limit to the specified array. */
+        public VREventDualAnalog.Buffer getTransformedX(float[] dst) { gather(VREventDualAnalog.TRANSFORMEDX, dst); return this; }
+        /** Copies the {@code transformedX} field of the structs between the current position and limit to the specified buffer. */
+        public VREventDualAnalog.Buffer getTransformedX(FloatBuffer dst) { gather(VREventDualAnalog.TRANSFORMEDX, dst); return this; }
+        /** Copies the {@code transformedY} field of the structs between the current position and limit to the specified array. */
+        public VREventDualAnalog.Buffer getTransformedY(float[] dst) { gather(VREventDualAnalog.TRANSFORMEDY, dst); return this; }
+        /** Copies the {@code transformedY} field of the structs between the current position and limit to the specified buffer. */
+        public VREventDualAnalog.Buffer getTransformedY(FloatBuffer dst) { gather(VREventDualAnalog.TRANSFORMEDY, dst); return this; }
+        /** Copies the {@code which} field of the structs between the current position and limit to the specified array. */
+        public VREventDualAnalog.Buffer getWhich(int[] dst) { gather(VREventDualAnalog.WHICH, dst); return this; }
+        /** Copies the {@code which} field of the structs between the current position and limit to the specified buffer. */
+        public VREventDualAnalog.Buffer getWhich(IntBuffer dst) { gather(VREventDualAnalog.WHICH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -150,6 +150,15 @@ public class VREventEditingCameraSurface extends Struct {
         @NativeType("uint32_t")
         public int nVisualMode() { return VREventEditingCameraSurface.nnVisualMode(address()); }
 
+        /** Copies the {@code overlayHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventEditingCameraSurface.Buffer getOverlayHandle(long[] dst) { gather(VREventEditingCameraSurface.OVERLAYHANDLE, dst); return this; }
+        /** Copies the {@code overlayHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventEditingCameraSurface.Buffer getOverlayHandle(LongBuffer dst) { gather(VREventEditingCameraSurface.OVERLAYHANDLE, dst); return this; }
+        /** Copies the {@code nVisualMode} field of the structs between the current position and limit to the specified array. */
+        public VREventEditingCameraSurface.Buffer getNVisualMode(int[] dst) { gather(VREventEditingCameraSurface.NVISUALMODE, dst); return this; }
+        /** Copies the {@code nVisualMode} field of the structs between the current position and limit to the specified buffer. */
+        public VREventEditingCameraSurface.Buffer getNVisualMode(IntBuffer dst) { gather(VREventEditingCameraSurface.NVISUALMODE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
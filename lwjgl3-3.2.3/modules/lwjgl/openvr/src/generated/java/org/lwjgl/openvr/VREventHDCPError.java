@@ -138,6 +138,11 @@ public class VREventHDCPError extends Struct {
         @NativeType("EHDCPError")
         public int eCode() { return VREventHDCPError.neCode(address()); }
 
+        /** Copies the {@code eCode} field of the structs between the current position and limit to the specified array. */
+        public VREventHDCPError.Buffer getECode(int[] dst) { gather(VREventHDCPError.ECODE, dst); return this; }
+        /** Copies the {@code eCode} field of the structs between the current position and limit to the specified buffer. */
+        public VREventHDCPError.Buffer getECode(IntBuffer dst) { gather(VREventHDCPError.ECODE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -187,6 +187,27 @@ public class VREventHapticVibration extends Struct {
         /** Returns the value of the {@code fAmplitude} field. */
         public float fAmplitude() { return VREventHapticVibration.nfAmplitude(address()); }
 
+        /** Copies the {@code containerHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventHapticVibration.Buffer getContainerHandle(long[] dst) { gather(VREventHapticVibration.CONTAINERHANDLE, dst); return this; }
+        /** Copies the {@code containerHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventHapticVibration.Buffer getContainerHandle(LongBuffer dst) { gather(VREventHapticVibration.CONTAINERHANDLE, dst); return this; }
+        /** Copies the {@code componentHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventHapticVibration.Buffer getComponentHandle(long[] dst) { gather(VREventHapticVibration.COMPONENTHANDLE, dst); return this; }
+        /** Copies the {@code componentHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventHapticVibration.Buffer getComponentHandle(LongBuffer dst) { gather(VREventHapticVibration.COMPONENTHANDLE, dst); return this; }
+        /** Copies the {@code fDurationSeconds} field of the structs between the current position and limit to the specified array. */
+        public VREventHapticVibration.Buffer getFDurationSeconds(float[] dst) { gather(VREventHapticVibration.FDURATIONSECONDS, dst); return this; }
+        /** Copies the {@code fDurationSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public VREventHapticVibration.Buffer getFDurationSeconds(FloatBuffer dst) { gather(VREventHapticVibration.FDURATIONSECONDS, dst); return this; }
+        /** Copies the {@code fFrequency} field of the structs between the current position and limit to the specified array. */
+        public VREventHapticVibration.Buffer getFFrequency(float[] dst) { gather(VREventHapticVibration.FFREQUENCY, dst); return this; }
+        /** Copies the {@code fFrequency} field of the structs between the current position and limit to the specified buffer. */
+        public VREventHapticVibration.Buffer getFFrequency(FloatBuffer dst) { gather(VREventHapticVibration.FFREQUENCY, dst); return this; }
+        /** Copies the {@code fAmplitude} field of the structs between the current position and limit to the specified array. */
+        public VREventHapticVibration.Buffer getFAmplitude(float[] dst) { gather(VREventHapticVibration.FAMPLITUDE, dst); return this; }
+        /** Copies the {@code fAmplitude} field of the structs between the current position and limit to the specified buffer. */
+        public VREventHapticVibration.Buffer getFAmplitude(FloatBuffer dst) { gather(VREventHapticVibration.FAMPLITUDE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -174,6 +174,23 @@ public class VREventInputActionManifestLoad extends Struct {
         @NativeType("uint64_t")
         public long pathManifestPath() { return VREventInputActionManifestLoad.npathManifestPath(address()); }
 
+        /** Copies the {@code pathAppKey} field of the structs between the current position and limit to the specified array. */
+        public VREventInputActionManifestLoad.Buffer getPathAppKey(long[] dst) { gather(VREventInputActionManifestLoad.PATHAPPKEY, dst); return this; }
+        /** Copies the {@code pathAppKey} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputActionManifestLoad.Buffer getPathAppKey(LongBuffer dst) { gather(VREventInputActionManifestLoad.PATHAPPKEY, dst); return this; }
+        /** Copies the {@code pathMessage} field of the structs between the current position and limit to the specified array. */
+        public VREventInputActionManifestLoad.Buffer getPathMessage(long[] dst) { gather(VREventInputActionManifestLoad.PATHMESSAGE, dst); return this; }
+        /** Copies the {@code pathMessage} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputActionManifestLoad.Buffer getPathMessage(LongBuffer dst) { gather(VREventInputActionManifestLoad.PATHMESSAGE, dst); return this; }
+        /** Copies the {@code pathMessageParam} field of the structs between the current position and limit to the specified array. */
+        public VREventInputActionManifestLoad.Buffer getPathMessageParam(long[] dst) { gather(VREventInputActionManifestLoad.PATHMESSAGEPARAM, dst); return this; }
+        /** Copies the {@code pathMessageParam} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputActionManifestLoad.Buffer getPathMessageParam(LongBuffer dst) { gather(VREventInputActionManifestLoad.PATHMESSAGEPARAM, dst); return this; }
+        /** Copies the {@code pathManifestPath} field of the structs between the current position and limit to the specified array. */
+        public VREventInputActionManifestLoad.Buffer getPathManifestPath(long[] dst) { gather(VREventInputActionManifestLoad.PATHMANIFESTPATH, dst); return this; }
+        /** Copies the {@code pathManifestPath} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputActionManifestLoad.Buffer getPathManifestPath(LongBuffer dst) { gather(VREventInputActionManifestLoad.PATHMANIFESTPATH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -174,6 +174,23 @@ public class VREventInputBindingLoad extends Struct {
         @NativeType("uint64_t")
         public long pathControllerType() { return VREventInputBindingLoad.npathControllerType(address()); }
 
+        /** Copies the {@code ulAppContainer} field of the structs between the current position and limit to the specified array. */
+        public VREventInputBindingLoad.Buffer getUlAppContainer(long[] dst) { gather(VREventInputBindingLoad.ULAPPCONTAINER, dst); return this; }
+        /** Copies the {@code ulAppContainer} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputBindingLoad.Buffer getUlAppContainer(LongBuffer dst) { gather(VREventInputBindingLoad.ULAPPCONTAINER, dst); return this; }
+        /** Copies the {@code pathMessage} field of the structs between the current position and limit to the specified array. */
+        public VREventInputBindingLoad.Buffer getPathMessage(long[] dst) { gather(VREventInputBindingLoad.PATHMESSAGE, dst); return this; }
+        /** Copies the {@code pathMessage} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputBindingLoad.Buffer getPathMessage(LongBuffer dst) { gather(VREventInputBindingLoad.PATHMESSAGE, dst); return this; }
+        /** Copies the {@code pathUrl} field of the structs between the current position and limit to the specified array. */
+        public VREventInputBindingLoad.Buffer getPathUrl(long[] dst) { gather(VREventInputBindingLoad.PATHURL, dst); return this; }
+        /** Copies the {@code pathUrl} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputBindingLoad.Buffer getPathUrl(LongBuffer dst) { gather(VREventInputBindingLoad.PATHURL, dst); return this; }
+        /** Copies the {@code pathControllerType} field of the structs between the current position and limit to the specified array. */
+        public VREventInputBindingLoad.Buffer getPathControllerType(long[] dst) { gather(VREventInputBindingLoad.PATHCONTROLLERTYPE, dst); return this; }
+        /** Copies the {@code pathControllerType} field of the structs between the current position and limit to the specified buffer. */
+        public VREventInputBindingLoad.Buffer getPathControllerType(LongBuffer dst) { gather(VREventInputBindingLoad.PATHCONTROLLERTYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
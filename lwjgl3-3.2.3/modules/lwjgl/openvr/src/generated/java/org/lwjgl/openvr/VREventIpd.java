@@ -136,6 +136,11 @@ public class VREventIpd extends Struct {
         /** Returns the value of the {@code ipdMeters} field. */
         public float ipdMeters() { return VREventIpd.nipdMeters(address()); }
 
+        /** Copies the {@code ipdMeters} field of the structs between the current position and limit to the specified array. */
+        public VREventIpd.Buffer getIpdMeters(float[] dst) { gather(VREventIpd.IPDMETERS, dst); return this; }
+        /** Copies the {@code ipdMeters} field of the structs between the current position and limit to the specified buffer. */
+        public VREventIpd.Buffer getIpdMeters(FloatBuffer dst) { gather(VREventIpd.IPDMETERS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
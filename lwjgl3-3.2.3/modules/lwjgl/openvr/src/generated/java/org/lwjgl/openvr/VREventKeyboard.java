@@ -170,6 +170,11 @@ public class VREventKeyboard extends Struct {
         @NativeType("uint64_t")
         public long uUserValue() { return VREventKeyboard.nuUserValue(address()); }
 
+        /** Copies the {@code uUserValue} field of the structs between the current position and limit to the specified array. */
+        public VREventKeyboard.Buffer getUUserValue(long[] dst) { gather(VREventKeyboard.UUSERVALUE, dst); return this; }
+        /** Copies the {@code uUserValue} field of the structs between the current position and limit to the specified buffer. */
+        public VREventKeyboard.Buffer getUUserValue(LongBuffer dst) { gather(VREventKeyboard.UUSERVALUE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
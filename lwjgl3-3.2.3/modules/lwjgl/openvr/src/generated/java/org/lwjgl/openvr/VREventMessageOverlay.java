@@ -144,6 +144,11 @@ public class VREventMessageOverlay extends Struct {
         @NativeType("uint32_t")
         public int unVRMessageOverlayResponse() { return VREventMessageOverlay.nunVRMessageOverlayResponse(address()); }
 
+        /** Copies the {@code unVRMessageOverlayResponse} field of the structs between the current position and limit to the specified array. */
+        public VREventMessageOverlay.Buffer getUnVRMessageOverlayResponse(int[] dst) { gather(VREventMessageOverlay.UNVRMESSAGEOVERLAYRESPONSE, dst); return this; }
+        /** Copies the {@code unVRMessageOverlayResponse} field of the structs between the current position and limit to the specified buffer. */
+        public VREventMessageOverlay.Buffer getUnVRMessageOverlayResponse(IntBuffer dst) { gather(VREventMessageOverlay.UNVRMESSAGEOVERLAYRESPONSE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -167,6 +167,19 @@ public class VREventMouse extends Struct {
         @NativeType("uint32_t")
         public int button() { return VREventMouse.nbutton(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VREventMouse.Buffer getX(float[] dst) { gather(VREventMouse.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VREventMouse.Buffer getX(FloatBuffer dst) { gather(VREventMouse.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VREventMouse.Buffer getY(float[] dst) { gather(VREventMouse.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VREventMouse.Buffer getY(FloatBuffer dst) { gather(VREventMouse.Y, dst); return this; }
+        /** Copies the {@code button} field of the structs between the current position and limit to the specified array. */
+        public VREventMouse.Buffer getButton(int[] dst) { gather(VREventMouse.BUTTON, dst); return this; }
+        /** Copies the {@code button} field of the structs between the current position and limit to the specified buffer. */
+        public VREventMouse.Buffer getButton(IntBuffer dst) { gather(VREventMouse.BUTTON, dst); return this; }
+
     }
 
 }
\ No newline at end of file
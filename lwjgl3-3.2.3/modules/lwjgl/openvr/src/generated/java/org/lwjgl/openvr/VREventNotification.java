@@ -152,6 +152,15 @@ public class VREventNotification extends Struct {
         @NativeType("uint32_t")
         public int notificationId() { return VREventNotification.nnotificationId(address()); }
 
+        /** Copies the {@code ulUserValue} field of the structs between the current position and limit to the specified array. */
+        public VREventNotification.Buffer getUlUserValue(long[] dst) { gather(VREventNotification.ULUSERVALUE, dst); return this; }
+        /** Copies the {@code ulUserValue} field of the structs between the current position and limit to the specified buffer. */
+        public VREventNotification.Buffer getUlUserValue(LongBuffer dst) { gather(VREventNotification.ULUSERVALUE, dst); return this; }
+        /** Copies the {@code notificationId} field of the structs between the current position and limit to the specified array. */
+        public VREventNotification.Buffer getNotificationId(int[] dst) { gather(VREventNotification.NOTIFICATIONID, dst); return this; }
+        /** Copies the {@code notificationId} field of the structs between the current position and limit to the specified buffer. */
+        public VREventNotification.Buffer getNotificationId(IntBuffer dst) { gather(VREventNotification.NOTIFICATIONID, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -158,6 +158,15 @@ public class VREventOverlay extends Struct {
         @NativeType("uint64_t")
         public long devicePath() { return VREventOverlay.ndevicePath(address()); }
 
+        /** Copies the {@code overlayHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventOverlay.Buffer getOverlayHandle(long[] dst) { gather(VREventOverlay.OVERLAYHANDLE, dst); return this; }
+        /** Copies the {@code overlayHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventOverlay.Buffer getOverlayHandle(LongBuffer dst) { gather(VREventOverlay.OVERLAYHANDLE, dst); return this; }
+        /** Copies the {@code devicePath} field of the structs between the current position and limit to the specified array. */
+        public VREventOverlay.Buffer getDevicePath(long[] dst) { gather(VREventOverlay.DEVICEPATH, dst); return this; }
+        /** Copies the {@code devicePath} field of the structs between the current position and limit to the specified buffer. */
+        public VREventOverlay.Buffer getDevicePath(LongBuffer dst) { gather(VREventOverlay.DEVICEPATH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
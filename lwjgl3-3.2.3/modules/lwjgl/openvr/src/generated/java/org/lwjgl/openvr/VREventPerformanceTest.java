@@ -138,6 +138,11 @@ public class VREventPerformanceTest extends Struct {
         @NativeType("uint32_t")
         public int m_nFidelityLevel() { return VREventPerformanceTest.nm_nFidelityLevel(address()); }
 
+        /** Copies the {@code m_nFidelityLevel} field of the structs between the current position and limit to the specified array. */
+        public VREventPerformanceTest.Buffer getM_nFidelityLevel(int[] dst) { gather(VREventPerformanceTest.M_NFIDELITYLEVEL, dst); return this; }
+        /** Copies the {@code m_nFidelityLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VREventPerformanceTest.Buffer getM_nFidelityLevel(IntBuffer dst) { gather(VREventPerformanceTest.M_NFIDELITYLEVEL, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -182,6 +182,15 @@ public class VREventProcess extends Struct {
         @NativeType("bool")
         public boolean bConnectionLost() { return VREventProcess.nbConnectionLost(address()); }
 
+        /** Copies the {@code pid} field of the structs between the current position and limit to the specified array. */
+        public VREventProcess.Buffer getPid(int[] dst) { gather(VREventProcess.PID, dst); return this; }
+        /** Copies the {@code pid} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProcess.Buffer getPid(IntBuffer dst) { gather(VREventProcess.PID, dst); return this; }
+        /** Copies the {@code oldPid} field of the structs between the current position and limit to the specified array. */
+        public VREventProcess.Buffer getOldPid(int[] dst) { gather(VREventProcess.OLDPID, dst); return this; }
+        /** Copies the {@code oldPid} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProcess.Buffer getOldPid(IntBuffer dst) { gather(VREventProcess.OLDPID, dst); return this; }
+
     }
 
 }
\ No newline at end of file
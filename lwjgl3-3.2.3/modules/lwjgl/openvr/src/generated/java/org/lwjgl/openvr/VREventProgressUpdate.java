@@ -196,6 +196,31 @@ public class VREventProgressUpdate extends Struct {
         /** Returns the value of the {@code fProgress} field. */
         public float fProgress() { return VREventProgressUpdate.nfProgress(address()); }
 
+        /** Copies the {@code ulApplicationPropertyContainer} field of the structs between the current position and limit to the specified array. */
+        public VREventProgressUpdate.Buffer getUlApplicationPropertyContainer(long[] dst) { gather(VREventProgressUpdate.ULAPPLICATIONPROPERTYCONTAINER, dst); return this; }
+        /** Copies the {@code ulApplicationPropertyContainer} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProgressUpdate.Buffer getUlApplicationPropertyContainer(LongBuffer dst) { gather(VREventProgressUpdate.ULAPPLICATIONPROPERTYCONTAINER, dst); return this; }
+        /** Copies the {@code pathDevice} field of the structs between the current position and limit to the specified array. */
+        public VREventProgressUpdate.Buffer getPathDevice(long[] dst) { gather(VREventProgressUpdate.PATHDEVICE, dst); return this; }
+        /** Copies the {@code pathDevice} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProgressUpdate.Buffer getPathDevice(LongBuffer dst) { gather(VREventProgressUpdate.PATHDEVICE, dst); return this; }
+        /** Copies the {@code pathInputSource} field of the structs between the current position and limit to the specified array. */
+        public VREventProgressUpdate.Buffer getPathInputSource(long[] dst) { gather(VREventProgressUpdate.PATHINPUTSOURCE, dst); return this; }
+        /** Copies the {@code pathInputSource} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProgressUpdate.Buffer getPathInputSource(LongBuffer dst) { gather(VREventProgressUpdate.PATHINPUTSOURCE, dst); return this; }
+        /** Copies the {@code pathProgressAction} field of the structs between the current position and limit to the specified array. */
+        public VREventProgressUpdate.Buffer getPathProgressAction(long[] dst) { gather(VREventProgressUpdate.PATHPROGRESSACTION, dst); return this; }
+        /** Copies the {@code pathProgressAction} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProgressUpdate.Buffer getPathProgressAction(LongBuffer dst) { gather(VREventProgressUpdate.PATHPROGRESSACTION, dst); return this; }
+        /** Copies the {@code pathIcon} field of the structs between the current position and limit to the specified array. */
+        public VREventProgressUpdate.Buffer getPathIcon(long[] dst) { gather(VREventProgressUpdate.PATHICON, dst); return this; }
+        /** Copies the {@code pathIcon} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProgressUpdate.Buffer getPathIcon(LongBuffer dst) { gather(VREventProgressUpdate.PATHICON, dst); return this; }
+        /** Copies the {@code fProgress} field of the structs between the current position and limit to the specified array. */
+        public VREventProgressUpdate.Buffer getFProgress(float[] dst) { gather(VREventProgressUpdate.FPROGRESS, dst); return this; }
+        /** Copies the {@code fProgress} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProgressUpdate.Buffer getFProgress(FloatBuffer dst) { gather(VREventProgressUpdate.FPROGRESS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -156,6 +156,15 @@ public class VREventProperty extends Struct {
         @NativeType("ETrackedDeviceProperty")
         public int prop() { return VREventProperty.nprop(address()); }
 
+        /** Copies the {@code container} field of the structs between the current position and limit to the specified array. */
+        public VREventProperty.Buffer getContainer(long[] dst) { gather(VREventProperty.CONTAINER, dst); return this; }
+        /** Copies the {@code container} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProperty.Buffer getContainer(LongBuffer dst) { gather(VREventProperty.CONTAINER, dst); return this; }
+        /** Copies the {@code prop} field of the structs between the current position and limit to the specified array. */
+        public VREventProperty.Buffer getProp(int[] dst) { gather(VREventProperty.PROP, dst); return this; }
+        /** Copies the {@code prop} field of the structs between the current position and limit to the specified buffer. */
+        public VREventProperty.Buffer getProp(IntBuffer dst) { gather(VREventProperty.PROP, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -200,6 +200,31 @@ public class VREventReserved extends Struct {
         @NativeType("uint64_t")
         public long reserved5() { return VREventReserved.nreserved5(address()); }
 
+        /** Copies the {@code reserved0} field of the structs between the current position and limit to the specified array. */
+        public VREventReserved.Buffer getReserved0(long[] dst) { gather(VREventReserved.RESERVED0, dst); return this; }
+        /** Copies the {@code reserved0} field of the structs between the current position and limit to the specified buffer. */
+        public VREventReserved.Buffer getReserved0(LongBuffer dst) { gather(VREventReserved.RESERVED0, dst); return this; }
+        /** Copies the {@code reserved1} field of the structs between the current position and limit to the specified array. */
+        public VREventReserved.Buffer getReserved1(long[] dst) { gather(VREventReserved.RESERVED1, dst); return this; }
+        /** Copies the {@code reserved1} field of the structs between the current position and limit to the specified buffer. */
+        public VREventReserved.Buffer getReserved1(LongBuffer dst) { gather(VREventReserved.RESERVED1, dst); return this; }
+        /** Copies the {@code reserved2} field of the structs between the current position and limit to the specified array. */
+        public VREventReserved.Buffer getReserved2(long[] dst) { gather(VREventReserved.RESERVED2, dst); return this; }
+        /** Copies the {@code reserved2} field of the structs between the current position and limit to the specified buffer. */
+        public VREventReserved.Buffer getReserved2(LongBuffer dst) { gather(VREventReserved.RESERVED2, dst); return this; }
+        /** Copies the {@code reserved3} field of the structs between the current position and limit to the specified array. */
+        public VREventReserved.Buffer getReserved3(long[] dst) { gather(VREventReserved.RESERVED3, dst); return this; }
+        /** Copies the {@code reserved3} field of the structs between the current position and limit to the specified buffer. */
+        public VREventReserved.Buffer getReserved3(LongBuffer dst) { gather(VREventReserved.RESERVED3, dst); return this; }
+        /** Copies the {@code reserved4} field of the structs between the current position and limit to the specified array. */
+        public VREventReserved.Buffer getReserved4(long[] dst) { gather(VREventReserved.RESERVED4, dst); return this; }
+        /** Copies the {@code reserved4} field of the structs between the current position and limit to the specified buffer. */
+        public VREventReserved.Buffer getReserved4(LongBuffer dst) { gather(VREventReserved.RESERVED4, dst); return this; }
+        /** Copies the {@code reserved5} field of the structs between the current position and limit to the specified array. */
+        public VREventReserved.Buffer getReserved5(long[] dst) { gather(VREventReserved.RESERVED5, dst); return this; }
+        /** Copies the {@code reserved5} field of the structs between the current position and limit to the specified buffer. */
+        public VREventReserved.Buffer getReserved5(LongBuffer dst) { gather(VREventReserved.RESERVED5, dst); return this; }
+
     }
 
 }
\ No newline at end of file
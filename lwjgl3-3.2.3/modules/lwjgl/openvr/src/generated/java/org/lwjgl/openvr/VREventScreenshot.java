@@ -150,6 +150,15 @@ public class VREventScreenshot extends Struct {
         @NativeType("uint32_t")
         public int type() { return VREventScreenshot.ntype(address()); }
 
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified array. */
+        public VREventScreenshot.Buffer getHandle(int[] dst) { gather(VREventScreenshot.HANDLE, dst); return this; }
+        /** Copies the {@code handle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScreenshot.Buffer getHandle(IntBuffer dst) { gather(VREventScreenshot.HANDLE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VREventScreenshot.Buffer getType(int[] dst) { gather(VREventScreenshot.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScreenshot.Buffer getType(IntBuffer dst) { gather(VREventScreenshot.TYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
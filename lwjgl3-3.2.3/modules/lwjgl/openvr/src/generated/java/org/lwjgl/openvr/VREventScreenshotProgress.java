@@ -136,6 +136,11 @@ public class VREventScreenshotProgress extends Struct {
         /** Returns the value of the {@code progress} field. */
         public float progress() { return VREventScreenshotProgress.nprogress(address()); }
 
+        /** Copies the {@code progress} field of the structs between the current position and limit to the specified array. */
+        public VREventScreenshotProgress.Buffer getProgress(float[] dst) { gather(VREventScreenshotProgress.PROGRESS, dst); return this; }
+        /** Copies the {@code progress} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScreenshotProgress.Buffer getProgress(FloatBuffer dst) { gather(VREventScreenshotProgress.PROGRESS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
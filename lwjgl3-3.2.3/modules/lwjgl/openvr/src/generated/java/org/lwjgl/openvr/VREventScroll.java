@@ -177,6 +177,23 @@ public class VREventScroll extends Struct {
         /** Returns the value of the {@code viewportscale} field. */
         public float viewportscale() { return VREventScroll.nviewportscale(address()); }
 
+        /** Copies the {@code xdelta} field of the structs between the current position and limit to the specified array. */
+        public VREventScroll.Buffer getXdelta(float[] dst) { gather(VREventScroll.XDELTA, dst); return this; }
+        /** Copies the {@code xdelta} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScroll.Buffer getXdelta(FloatBuffer dst) { gather(VREventScroll.XDELTA, dst); return this; }
+        /** Copies the {@code ydelta} field of the structs between the current position and limit to the specified array. */
+        public VREventScroll.Buffer getYdelta(float[] dst) { gather(VREventScroll.YDELTA, dst); return this; }
+        /** Copies the {@code ydelta} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScroll.Buffer getYdelta(FloatBuffer dst) { gather(VREventScroll.YDELTA, dst); return this; }
+        /** Copies the {@code unused} field of the structs between the current position and limit to the specified array. */
+        public VREventScroll.Buffer getUnused(int[] dst) { gather(VREventScroll.UNUSED, dst); return this; }
+        /** Copies the {@code unused} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScroll.Buffer getUnused(IntBuffer dst) { gather(VREventScroll.UNUSED, dst); return this; }
+        /** Copies the {@code viewportscale} field of the structs between the current position and limit to the specified array. */
+        public VREventScroll.Buffer getViewportscale(float[] dst) { gather(VREventScroll.VIEWPORTSCALE, dst); return this; }
+        /** Copies the {@code viewportscale} field of the structs between the current position and limit to the specified buffer. */
+        public VREventScroll.Buffer getViewportscale(FloatBuffer dst) { gather(VREventScroll.VIEWPORTSCALE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -138,6 +138,11 @@ public class VREventShowDevTools extends Struct {
         @NativeType("int32_t")
         public int nBrowserIdentifier() { return VREventShowDevTools.nnBrowserIdentifier(address()); }
 
+        /** Copies the {@code nBrowserIdentifier} field of the structs between the current position and limit to the specified array. */
+        public VREventShowDevTools.Buffer getNBrowserIdentifier(int[] dst) { gather(VREventShowDevTools.NBROWSERIDENTIFIER, dst); return this; }
+        /** Copies the {@code nBrowserIdentifier} field of the structs between the current position and limit to the specified buffer. */
+        public VREventShowDevTools.Buffer getNBrowserIdentifier(IntBuffer dst) { gather(VREventShowDevTools.NBROWSERIDENTIFIER, dst); return this; }
+
     }
 
 }
\ No newline at end of file
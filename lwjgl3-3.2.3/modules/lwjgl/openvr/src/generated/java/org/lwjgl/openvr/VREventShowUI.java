@@ -138,6 +138,11 @@ public class VREventShowUI extends Struct {
         @NativeType("EShowUIType")
         public int eType() { return VREventShowUI.neType(address()); }
 
+        /** Copies the {@code eType} field of the structs between the current position and limit to the specified array. */
+        public VREventShowUI.Buffer getEType(int[] dst) { gather(VREventShowUI.ETYPE, dst); return this; }
+        /** Copies the {@code eType} field of the structs between the current position and limit to the specified buffer. */
+        public VREventShowUI.Buffer getEType(IntBuffer dst) { gather(VREventShowUI.ETYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -138,6 +138,11 @@ public class VREventSpatialAnchor extends Struct {
         @NativeType("SpatialAnchorHandle_t")
         public int unHandle() { return VREventSpatialAnchor.nunHandle(address()); }
 
+        /** Copies the {@code unHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventSpatialAnchor.Buffer getUnHandle(int[] dst) { gather(VREventSpatialAnchor.UNHANDLE, dst); return this; }
+        /** Copies the {@code unHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventSpatialAnchor.Buffer getUnHandle(IntBuffer dst) { gather(VREventSpatialAnchor.UNHANDLE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
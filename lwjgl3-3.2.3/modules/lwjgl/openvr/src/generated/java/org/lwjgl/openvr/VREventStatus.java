@@ -140,6 +140,11 @@ public class VREventStatus extends Struct {
         @NativeType("uint32_t")
         public int statusState() { return VREventStatus.nstatusState(address()); }
 
+        /** Copies the {@code statusState} field of the structs between the current position and limit to the specified array. */
+        public VREventStatus.Buffer getStatusState(int[] dst) { gather(VREventStatus.STATUSSTATE, dst); return this; }
+        /** Copies the {@code statusState} field of the structs between the current position and limit to the specified buffer. */
+        public VREventStatus.Buffer getStatusState(IntBuffer dst) { gather(VREventStatus.STATUSSTATE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
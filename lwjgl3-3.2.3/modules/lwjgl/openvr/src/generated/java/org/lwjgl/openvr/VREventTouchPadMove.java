@@ -200,6 +200,27 @@ public class VREventTouchPadMove extends Struct {
         /** Returns the value of the {@code fValueYRaw} field. */
         public float fValueYRaw() { return VREventTouchPadMove.nfValueYRaw(address()); }
 
+        /** Copies the {@code flSecondsFingerDown} field of the structs between the current position and limit to the specified array. */
+        public VREventTouchPadMove.Buffer getFlSecondsFingerDown(float[] dst) { gather(VREventTouchPadMove.FLSECONDSFINGERDOWN, dst); return this; }
+        /** Copies the {@code flSecondsFingerDown} field of the structs between the current position and limit to the specified buffer. */
+        public VREventTouchPadMove.Buffer getFlSecondsFingerDown(FloatBuffer dst) { gather(VREventTouchPadMove.FLSECONDSFINGERDOWN, dst); return this; }
+        /** Copies the {@code fValueXFirst} field of the structs between the current position and limit to the specified array. */
+        public VREventTouchPadMove.Buffer getFValueXFirst(float[] dst) { gather(VREventTouchPadMove.FVALUEXFIRST, dst); return this; }
+        /** Copies the {@code fValueXFirst} field of the structs between the current position and limit to the specified buffer. */
+        public VREventTouchPadMove.Buffer getFValueXFirst(FloatBuffer dst) { gather(VREventTouchPadMove.FVALUEXFIRST, dst); return this; }
+        /** Copies the {@code fValueYFirst} field of the structs between the current position and limit to the specified array. */
+        public VREventTouchPadMove.Buffer getFValueYFirst(float[] dst) { gather(VREventTouchPadMove.FVALUEYFIRST, dst); return this; }
+        /** Copies the {@code fValueYFirst} field of the structs between the current position and limit to the specified buffer. */
+        public VREventTouchPadMove.Buffer getFValueYFirst(FloatBuffer dst) { gather(VREventTouchPadMove.FVALUEYFIRST, dst); return this; }
+        /** Copies the {@code fValueXRaw} field of the structs between the current position and limit to the specified array. */
+        public VREventTouchPadMove.Buffer getFValueXRaw(float[] dst) { gather(VREventTouchPadMove.FVALUEXRAW, dst); return this; }
+        /** Copies the {@code fValueXRaw} field of the structs between the current position and limit to the specified buffer. */
+        public VREventTouchPadMove.Buffer getFValueXRaw(FloatBuffer dst) { gather(VREventTouchPadMove.FVALUEXRAW, dst); return this; }
+        /** Copies the {@code fValueYRaw} field of the structs between the current position and limit to the specified array. */
+        public VREventTouchPadMove.Buffer getFValueYRaw(float[] dst) { gather(VREventTouchPadMove.FVALUEYRAW, dst); return this; }
+        /** Copies the {@code fValueYRaw} field of the structs between the current position and limit to the specified buffer. */
+        public VREventTouchPadMove.Buffer getFValueYRaw(FloatBuffer dst) { gather(VREventTouchPadMove.FVALUEYRAW, dst); return this; }
+
     }
 
 }
\ No newline at end of file
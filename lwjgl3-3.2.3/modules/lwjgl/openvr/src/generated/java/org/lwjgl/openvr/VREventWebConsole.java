@@ -138,6 +138,11 @@ public class VREventWebConsole extends Struct {
         @NativeType("WebConsoleHandle_t")
         public long webConsoleHandle() { return VREventWebConsole.nwebConsoleHandle(address()); }
 
+        /** Copies the {@code webConsoleHandle} field of the structs between the current position and limit to the specified array. */
+        public VREventWebConsole.Buffer getWebConsoleHandle(long[] dst) { gather(VREventWebConsole.WEBCONSOLEHANDLE, dst); return this; }
+        /** Copies the {@code webConsoleHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VREventWebConsole.Buffer getWebConsoleHandle(LongBuffer dst) { gather(VREventWebConsole.WEBCONSOLEHANDLE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
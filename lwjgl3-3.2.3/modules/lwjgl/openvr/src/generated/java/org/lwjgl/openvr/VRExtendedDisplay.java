@@ -15,6 +15,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRExtendedDisplay {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRExtendedDisplay.class, "VRExtendedDisplay_GetWindowBounds,VRExtendedDisplay_GetEyeOutputViewport,VRExtendedDisplay_GetDXGIOutputInfo");
+
     protected VRExtendedDisplay() {
         throw new UnsupportedOperationException();
     }
@@ -27,7 +29,9 @@ public class VRExtendedDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(pnX, pnY, pnWidth, pnHeight, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Size and position that the window needs to be on the VR display. */
@@ -49,7 +53,9 @@ public class VRExtendedDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(eEye, pnX, pnY, pnWidth, pnHeight, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Gets the viewport in the frame buffer to draw the output of the distortion into. */
@@ -71,7 +77,9 @@ public class VRExtendedDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pnAdapterIndex, pnAdapterOutputIndex, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
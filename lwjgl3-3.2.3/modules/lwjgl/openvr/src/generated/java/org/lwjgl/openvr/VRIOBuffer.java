@@ -16,6 +16,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRIOBuffer {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRIOBuffer.class, "VRIOBuffer_Open,VRIOBuffer_Close,VRIOBuffer_Read,VRIOBuffer_Write,VRIOBuffer_PropertyContainer,VRIOBuffer_HasReaders");
+
     protected VRIOBuffer() {
         throw new UnsupportedOperationException();
     }
@@ -28,7 +30,8 @@ public class VRIOBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchPath, mode, unElementSize, unElements, pulBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pchPath, mode, unElementSize, unElements, pulBuffer, __functionAddress));
     }
 
     /**
@@ -74,7 +77,8 @@ public class VRIOBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callJI(ulBuffer, __functionAddress));
     }
 
     // --- [ VRIOBuffer_Read ] ---
@@ -85,7 +89,8 @@ public class VRIOBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulBuffer, pDst, unBytes, punRead, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callJPPI(ulBuffer, pDst, unBytes, punRead, __functionAddress));
     }
 
     /** Reads up to {@code unBytes} from buffer into {@code *pDst}, returning number of bytes read in {@code *punRead} */
@@ -105,7 +110,8 @@ public class VRIOBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulBuffer, pSrc, unBytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callJPI(ulBuffer, pSrc, unBytes, __functionAddress));
     }
 
     /** Writes {@code unBytes} of data from {@code *pSrc} into a buffer. */
@@ -123,7 +129,8 @@ public class VRIOBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJJ(ulBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callJJ(ulBuffer, __functionAddress));
     }
 
     // --- [ VRIOBuffer_HasReaders ] ---
@@ -135,7 +142,8 @@ public class VRIOBuffer {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJZ(ulBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callJZ(ulBuffer, __functionAddress));
     }
 
 }
\ No newline at end of file
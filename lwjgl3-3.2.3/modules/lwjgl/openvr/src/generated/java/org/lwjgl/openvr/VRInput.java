@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRInput {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRInput.class, "VRInput_SetActionManifestPath,VRInput_GetActionSetHandle,VRInput_GetActionHandle,VRInput_GetInputSourceHandle,VRInput_UpdateActionState,VRInput_GetDigitalActionData,VRInput_GetAnalogActionData,VRInput_GetPoseActionDataRelativeToNow,VRInput_GetPoseActionDataForNextFrame,VRInput_GetSkeletalActionData,VRInput_GetBoneCount,VRInput_GetBoneHierarchy,VRInput_GetBoneName,VRInput_GetSkeletalReferenceTransforms,VRInput_GetSkeletalTrackingLevel,VRInput_GetSkeletalBoneData,VRInput_GetSkeletalSummaryData,VRInput_GetSkeletalBoneDataCompressed,VRInput_DecompressSkeletalBoneData,VRInput_TriggerHapticVibrationAction,VRInput_GetActionOrigins,VRInput_GetOriginLocalizedName,VRInput_GetOriginTrackedDeviceInfo,VRInput_GetActionBindingInfo,VRInput_ShowActionOrigins,VRInput_ShowBindingsForActionSet");
+
     protected VRInput() {
         throw new UnsupportedOperationException();
     }
@@ -30,7 +32,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchActionManifestPath, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pchActionManifestPath, __functionAddress));
     }
 
     /**
@@ -75,7 +78,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchActionSetName, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(pchActionSetName, pHandle, __functionAddress));
     }
 
     /** Returns a handle for an action set. This handle is used for all performance-sensitive calls. */
@@ -112,7 +116,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchActionName, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(pchActionName, pHandle, __functionAddress));
     }
 
     /** Returns a handle for an action. This handle is used for all performance-sensitive calls. */
@@ -149,7 +154,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchInputSourcePath, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(pchInputSourcePath, pHandle, __functionAddress));
     }
 
     /** Returns a handle for any path in the input system. E.g. {@code /user/hand/right}. */
@@ -186,7 +192,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pSets, unSizeOfVRSelectedActionSet_t, unSetCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(pSets, unSizeOfVRSelectedActionSet_t, unSetCount, __functionAddress));
     }
 
     /**
@@ -206,7 +213,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPJI(action, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callJPJI(action, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress));
     }
 
     /**
@@ -235,7 +243,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPJI(action, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callJPJI(action, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress));
     }
 
     /**
@@ -264,7 +273,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPJI(action, eOrigin, fPredictedSecondsFromNow, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callJPJI(action, eOrigin, fPredictedSecondsFromNow, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress));
     }
 
     /**
@@ -299,7 +309,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPJI(action, eOrigin, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callJPJI(action, eOrigin, pActionData, unActionDataSize, ulRestrictToDevice, __functionAddress));
     }
 
     /**
@@ -334,7 +345,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, pActionData, unActionDataSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callJPI(action, pActionData, unActionDataSize, __functionAddress));
     }
 
     /** Reads the state of a skeletal action given its handle. */
@@ -357,7 +369,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, pBoneCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callJPI(action, pBoneCount, __functionAddress));
     }
 
     /** Reads the number of bones in skeleton associated with the given action. */
@@ -377,7 +390,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, pParentIndices, unIndexArrayCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callJPI(action, pParentIndices, unIndexArrayCount, __functionAddress));
     }
 
     /** Fills the given array with the index of each bone's parent in the skeleton associated with the given action. */
@@ -394,7 +408,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, nBoneIndex, pchBoneName, unNameBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callJPI(action, nBoneIndex, pchBoneName, unNameBufferSize, __functionAddress));
     }
 
     /** Fills the given buffer with the name of the bone at the given index in the skeleton associated with the given action. */
@@ -411,7 +426,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, eTransformSpace, eReferencePose, pTransformArray, unTransformArrayCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callJPI(action, eTransformSpace, eReferencePose, pTransformArray, unTransformArrayCount, __functionAddress));
     }
 
     /**
@@ -433,7 +449,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, pSkeletalTrackingLevel, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callJPI(action, pSkeletalTrackingLevel, __functionAddress));
     }
 
     /** Reads the level of accuracy to which the controller is able to track the user to recreate a skeletal pose. */
@@ -453,7 +470,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, eTransformSpace, eMotionRange, pTransformArray, unTransformArrayCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callJPI(action, eTransformSpace, eMotionRange, pTransformArray, unTransformArrayCount, __functionAddress));
     }
 
     /**
@@ -475,7 +493,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(action, eSummaryType, pSkeletalSummaryData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callJPI(action, eSummaryType, pSkeletalSummaryData, __functionAddress));
     }
 
     /** Reads summary information about the current pose of the skeleton associated with the given action. */
@@ -492,7 +511,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(action, eMotionRange, pvCompressedData, unCompressedSize, punRequiredCompressedSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callJPPI(action, eMotionRange, pvCompressedData, unCompressedSize, punRequiredCompressedSize, __functionAddress));
     }
 
     /**
@@ -517,7 +537,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pvCompressedBuffer, unCompressedBufferSize, eTransformSpace, pTransformArray, unTransformArrayCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPPI(pvCompressedBuffer, unCompressedBufferSize, eTransformSpace, pTransformArray, unTransformArrayCount, __functionAddress));
     }
 
     /**
@@ -539,7 +560,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJJI(action, fStartSecondsFromNow, fDurationSeconds, fFrequency, fAmplitude, ulRestrictToDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callJJI(action, fStartSecondsFromNow, fDurationSeconds, fFrequency, fAmplitude, ulRestrictToDevice, __functionAddress));
     }
 
     // --- [ VRInput_GetActionOrigins ] ---
@@ -550,7 +572,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJJPI(actionSetHandle, digitalActionHandle, originsOut, originOutCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callJJPI(actionSetHandle, digitalActionHandle, originsOut, originOutCount, __functionAddress));
     }
 
     /** Retrieve origin handles for an action. */
@@ -567,7 +590,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(origin, pchNameArray, unNameArraySize, unStringSectionsToInclude, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callJPI(origin, pchNameArray, unNameArraySize, unStringSectionsToInclude, __functionAddress));
     }
 
     /**
@@ -589,7 +613,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(origin, pOriginInfo, unOriginInfoSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callJPI(origin, pOriginInfo, unOriginInfoSize, __functionAddress));
     }
 
     /** Retrieves useful information for the origin of this action. */
@@ -612,7 +637,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(action, pOriginInfo, unBindingInfoSize, unBindingInfoCount, punReturnedBindingInfoCount, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callJPPI(action, pOriginInfo, unBindingInfoSize, unBindingInfoCount, punReturnedBindingInfoCount, __functionAddress));
     }
 
     /** Retrieves useful information about the bindings for an action. */
@@ -633,7 +659,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJJI(actionSetHandle, ulActionHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callJJI(actionSetHandle, ulActionHandle, __functionAddress));
     }
 
     // --- [ VRInput_ShowBindingsForActionSet ] ---
@@ -644,7 +671,8 @@ public class VRInput {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(pSets, unSizeOfVRSelectedActionSet_t, unSetCount, originToHighlight, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPJI(pSets, unSizeOfVRSelectedActionSet_t, unSetCount, originToHighlight, __functionAddress));
     }
 
     /** Shows the current binding all the actions in the specified action sets. */
@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRNotifications {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRNotifications.class, "VRNotifications_CreateNotification,VRNotifications_RemoveNotification");
+
     protected VRNotifications() {
         throw new UnsupportedOperationException();
     }
@@ -31,7 +33,8 @@ public class VRNotifications {
             check(__functionAddress);
             if (pImage != NULL) { NotificationBitmap.validate(pImage); }
         }
-        return callJJPPPI(ulOverlayHandle, ulUserValue, type, pchText, style, pImage, pNotificationId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callJJPPPI(ulOverlayHandle, ulUserValue, type, pchText, style, pImage, pNotificationId, __functionAddress));
     }
 
     /**
@@ -87,7 +90,8 @@ public class VRNotifications {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(notificationId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callI(notificationId, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Overlay management methods. */
 public class VROverlay {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VROverlay.class, "VROverlay_FindOverlay,VROverlay_CreateOverlay,VROverlay_DestroyOverlay,VROverlay_SetHighQualityOverlay,VROverlay_GetHighQualityOverlay,VROverlay_GetOverlayKey,VROverlay_GetOverlayName,VROverlay_SetOverlayName,VROverlay_GetOverlayImageData,VROverlay_GetOverlayErrorNameFromEnum,VROverlay_SetOverlayRenderingPid,VROverlay_GetOverlayRenderingPid,VROverlay_SetOverlayFlag,VROverlay_GetOverlayFlag,VROverlay_SetOverlayColor,VROverlay_GetOverlayColor,VROverlay_SetOverlayAlpha,VROverlay_GetOverlayAlpha,VROverlay_SetOverlayTexelAspect,VROverlay_GetOverlayTexelAspect,VROverlay_SetOverlaySortOrder,VROverlay_GetOverlaySortOrder,VROverlay_SetOverlayWidthInMeters,VROverlay_GetOverlayWidthInMeters,VROverlay_SetOverlayAutoCurveDistanceRangeInMeters,VROverlay_GetOverlayAutoCurveDistanceRangeInMeters,VROverlay_SetOverlayTextureColorSpace,VROverlay_GetOverlayTextureColorSpace,VROverlay_SetOverlayTextureBounds,VROverlay_GetOverlayTextureBounds,VROverlay_GetOverlayRenderModel,VROverlay_SetOverlayRenderModel,VROverlay_GetOverlayTransformType,VROverlay_SetOverlayTransformAbsolute,VROverlay_GetOverlayTransformAbsolute,VROverlay_SetOverlayTransformTrackedDeviceRelative,VROverlay_GetOverlayTransformTrackedDeviceRelative,VROverlay_SetOverlayTransformTrackedDeviceComponent,VROverlay_GetOverlayTransformTrackedDeviceComponent,VROverlay_GetOverlayTransformOverlayRelative,VROverlay_SetOverlayTransformOverlayRelative,VROverlay_ShowOverlay,VROverlay_HideOverlay,VROverlay_IsOverlayVisible,VROverlay_GetTransformForOverlayCoordinates,VROverlay_PollNextOverlayEvent,VROverlay_GetOverlayInputMethod,VROverlay_SetOverlayInputMethod,VROverlay_GetOverlayMouseScale,VROverlay_SetOverlayMouseScale,VROverlay_ComputeOverlayIntersection,VROverlay_IsHoverTargetOverlay,VROverlay_GetGamepadFocusOverlay,VROverlay_SetGamepadFocusOverlay,VROverlay_SetOverlayNeighbor,VROverlay_MoveGamepadFocusToNeighbor,VROverlay_SetOverlayDualAnalogTransform,VROverlay_GetOverlayDualAnalogTransform,VROverlay_SetOverlayTexture,VROverlay_ClearOverlayTexture,VROverlay_SetOverlayRaw,VROverlay_SetOverlayFromFile,VROverlay_GetOverlayTexture,VROverlay_ReleaseNativeOverlayHandle,VROverlay_GetOverlayTextureSize,VROverlay_CreateDashboardOverlay,VROverlay_IsDashboardVisible,VROverlay_IsActiveDashboardOverlay,VROverlay_SetDashboardOverlaySceneProcess,VROverlay_GetDashboardOverlaySceneProcess,VROverlay_ShowDashboard,VROverlay_GetPrimaryDashboardDevice,VROverlay_ShowKeyboard,VROverlay_ShowKeyboardForOverlay,VROverlay_GetKeyboardText,VROverlay_HideKeyboard,VROverlay_SetKeyboardTransformAbsolute,VROverlay_SetKeyboardPositionForOverlay,VROverlay_SetOverlayIntersectionMask,VROverlay_GetOverlayFlags,VROverlay_ShowMessageOverlay,VROverlay_CloseMessageOverlay");
+
     static { OpenVR.initialize(); }
 
     protected VROverlay() {
@@ -35,7 +37,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchOverlayKey, pOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pchOverlayKey, pOverlayHandle, __functionAddress));
     }
 
     /** Finds an existing overlay with the specified key. */
@@ -72,7 +75,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchOverlayKey, pchOverlayName, pOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(pchOverlayKey, pchOverlayName, pOverlayHandle, __functionAddress));
     }
 
     /** Creates a new named overlay. All overlays start hidden and with default settings. */
@@ -113,7 +117,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callJI(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_SetHighQualityOverlay ] ---
@@ -132,7 +137,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callJI(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_GetHighQualityOverlay ] ---
@@ -147,7 +153,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callJ(__functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayKey ] ---
@@ -158,7 +165,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, pchValue, unBufferSize, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callJPPI(ulOverlayHandle, pchValue, unBufferSize, pError, __functionAddress));
     }
 
     /**
@@ -200,7 +208,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, pchValue, unBufferSize, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callJPPI(ulOverlayHandle, pchValue, unBufferSize, pError, __functionAddress));
     }
 
     /**
@@ -242,7 +251,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pchName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callJPI(ulOverlayHandle, pchName, __functionAddress));
     }
 
     /** Sets the name to use for this overlay. */
@@ -275,7 +285,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPPI(ulOverlayHandle, pvBuffer, unBufferSize, punWidth, punHeight, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callJPPPI(ulOverlayHandle, pvBuffer, unBufferSize, punWidth, punHeight, __functionAddress));
     }
 
     /**
@@ -299,7 +310,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callP(error, __functionAddress));
     }
 
     /**
@@ -326,7 +338,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, unPID, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callJI(ulOverlayHandle, unPID, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayRenderingPid ] ---
@@ -338,7 +351,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callJI(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_SetOverlayFlag ] ---
@@ -354,7 +368,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, eOverlayFlag, bEnabled, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callJI(ulOverlayHandle, eOverlayFlag, bEnabled, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayFlag ] ---
@@ -365,7 +380,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, eOverlayFlag, pbEnabled, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callJPI(ulOverlayHandle, eOverlayFlag, pbEnabled, __functionAddress));
     }
 
     /**
@@ -390,7 +406,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, fRed, fGreen, fBlue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callJI(ulOverlayHandle, fRed, fGreen, fBlue, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayColor ] ---
@@ -401,7 +418,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPPI(ulOverlayHandle, pfRed, pfGreen, pfBlue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callJPPPI(ulOverlayHandle, pfRed, pfGreen, pfBlue, __functionAddress));
     }
 
     /** Gets the color tint of the overlay quad. */
@@ -424,7 +442,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, fAlpha, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callJI(ulOverlayHandle, fAlpha, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayAlpha ] ---
@@ -435,7 +454,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pfAlpha, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callJPI(ulOverlayHandle, pfAlpha, __functionAddress));
     }
 
     /** Gets the alpha of the overlay quad. By default overlays are rendering at 100 percent alpha (1.0). */
@@ -460,7 +480,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, fTexelAspect, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callJI(ulOverlayHandle, fTexelAspect, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayTexelAspect ] ---
@@ -471,7 +492,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pfTexelAspect, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callJPI(ulOverlayHandle, pfTexelAspect, __functionAddress));
     }
 
     /** Gets the aspect ratio of the texels in the overlay. Defaults to 1.0. */
@@ -504,7 +526,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, unSortOrder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callJI(ulOverlayHandle, unSortOrder, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlaySortOrder ] ---
@@ -515,7 +538,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, punSortOrder, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callJPI(ulOverlayHandle, punSortOrder, __functionAddress));
     }
 
     /** Gets the sort order of the overlay. See {@link #VROverlay_SetOverlaySortOrder SetOverlaySortOrder} for how this works. */
@@ -536,7 +560,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, fWidthInMeters, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callJI(ulOverlayHandle, fWidthInMeters, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayWidthInMeters ] ---
@@ -547,7 +572,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pfWidthInMeters, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callJPI(ulOverlayHandle, pfWidthInMeters, __functionAddress));
     }
 
     /** Returns the width of the overlay quad in meters. By default overlays are rendered on a quad that is 1 meter across. */
@@ -571,7 +597,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, fMinDistanceInMeters, fMaxDistanceInMeters, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callJI(ulOverlayHandle, fMinDistanceInMeters, fMaxDistanceInMeters, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayAutoCurveDistanceRangeInMeters ] ---
@@ -582,7 +609,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, pfMinDistanceInMeters, pfMaxDistanceInMeters, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callJPPI(ulOverlayHandle, pfMinDistanceInMeters, pfMaxDistanceInMeters, __functionAddress));
     }
 
     /**
@@ -612,7 +640,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, eTextureColorSpace, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callJI(ulOverlayHandle, eTextureColorSpace, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayTextureColorSpace ] ---
@@ -623,7 +652,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, peTextureColorSpace, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callJPI(ulOverlayHandle, peTextureColorSpace, __functionAddress));
     }
 
     /** Gets the overlay's current colorspace setting. */
@@ -643,7 +673,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pOverlayTextureBounds, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callJPI(ulOverlayHandle, pOverlayTextureBounds, __functionAddress));
     }
 
     /** Sets the part of the texture to use for the overlay. UV Min is the upper left corner and UV Max is the lower right corner. */
@@ -660,7 +691,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pOverlayTextureBounds, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callJPI(ulOverlayHandle, pOverlayTextureBounds, __functionAddress));
     }
 
     /** Gets the part of the texture to use for the overlay. UV Min is the upper left corner and UV Max is the lower right corner. */
@@ -677,7 +709,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPPI(ulOverlayHandle, pchValue, unBufferSize, pColor, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callJPPPI(ulOverlayHandle, pchValue, unBufferSize, pColor, pError, __functionAddress));
     }
 
     /** Gets render model to draw behind this overlay. */
@@ -696,7 +729,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, pchRenderModel, pColor, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callJPPI(ulOverlayHandle, pchRenderModel, pColor, __functionAddress));
     }
 
     @NativeType("EVROverlayError")
@@ -727,7 +761,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, peTransformType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callJPI(ulOverlayHandle, peTransformType, __functionAddress));
     }
 
     /** Returns the transform type of this overlay. */
@@ -747,7 +782,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, eTrackingOrigin, pmatTrackingOriginToOverlayTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, callJPI(ulOverlayHandle, eTrackingOrigin, pmatTrackingOriginToOverlayTransform, __functionAddress));
     }
 
     /**
@@ -768,7 +804,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, peTrackingOrigin, pmatTrackingOriginToOverlayTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callJPPI(ulOverlayHandle, peTrackingOrigin, pmatTrackingOriginToOverlayTransform, __functionAddress));
     }
 
     /** Gets the transform if it is absolute. Returns an error if the transform is some other type. */
@@ -788,7 +825,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, unTrackedDevice, pmatTrackedDeviceToOverlayTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callJPI(ulOverlayHandle, unTrackedDevice, pmatTrackedDeviceToOverlayTransform, __functionAddress));
     }
 
     /** Sets the transform to relative to the transform of the specified tracked device. */
@@ -805,7 +843,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, punTrackedDevice, pmatTrackedDeviceToOverlayTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, callJPPI(ulOverlayHandle, punTrackedDevice, pmatTrackedDeviceToOverlayTransform, __functionAddress));
     }
 
     /** Gets the transform if it is relative to a tracked device. Returns an error if the transform is some other type. */
@@ -825,7 +864,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, unDeviceIndex, pchComponentName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callJPI(ulOverlayHandle, unDeviceIndex, pchComponentName, __functionAddress));
     }
 
     /**
@@ -864,7 +904,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, punDeviceIndex, pchComponentName, unComponentNameSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callJPPI(ulOverlayHandle, punDeviceIndex, pchComponentName, unComponentNameSize, __functionAddress));
     }
 
     /** Gets the transform information when the overlay is rendering on a component. */
@@ -883,7 +924,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, ulOverlayHandleParent, pmatParentOverlayToOverlayTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callJPPI(ulOverlayHandle, ulOverlayHandleParent, pmatParentOverlayToOverlayTransform, __functionAddress));
     }
 
     @NativeType("EVROverlayError")
@@ -901,7 +943,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJJPI(ulOverlayHandle, ulOverlayHandleParent, pmatParentOverlayToOverlayTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callJJPI(ulOverlayHandle, ulOverlayHandleParent, pmatParentOverlayToOverlayTransform, __functionAddress));
     }
 
     @NativeType("EVROverlayError")
@@ -918,7 +961,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callJI(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_HideOverlay ] ---
@@ -930,7 +974,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callJI(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_IsOverlayVisible ] ---
@@ -942,7 +987,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJZ(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callJZ(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_GetTransformForOverlayCoordinates ] ---
@@ -956,7 +1002,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return nVROverlay_GetTransformForOverlayCoordinates(ulOverlayHandle, eTrackingOrigin, coordinatesInOverlay, pmatTransform, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nVROverlay_GetTransformForOverlayCoordinates(ulOverlayHandle, eTrackingOrigin, coordinatesInOverlay, pmatTransform, __functionAddress));
     }
 
     /**
@@ -978,7 +1025,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPZ(ulOverlayHandle, pEvent, uncbVREvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callJPZ(ulOverlayHandle, pEvent, uncbVREvent, __functionAddress));
     }
 
     /**
@@ -1009,7 +1057,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, peInputMethod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, callJPI(ulOverlayHandle, peInputMethod, __functionAddress));
     }
 
     /** Returns the current input settings for the specified overlay. */
@@ -1034,7 +1083,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, eInputMethod, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callJI(ulOverlayHandle, eInputMethod, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayMouseScale ] ---
@@ -1045,7 +1095,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pvecMouseScale, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, callJPI(ulOverlayHandle, pvecMouseScale, __functionAddress));
     }
 
     /**
@@ -1065,7 +1116,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pvecMouseScale, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callJPI(ulOverlayHandle, pvecMouseScale, __functionAddress));
     }
 
     /**
@@ -1085,7 +1137,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPZ(ulOverlayHandle, pParams, pResults, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callJPPZ(ulOverlayHandle, pParams, pResults, __functionAddress));
     }
 
     /**
@@ -1109,7 +1162,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJZ(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, callJZ(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_GetGamepadFocusOverlay ] ---
@@ -1121,7 +1175,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, callJ(__functionAddress));
     }
 
     // --- [ VROverlay_SetGamepadFocusOverlay ] ---
@@ -1133,7 +1188,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulNewFocusOverlay, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, callJI(ulNewFocusOverlay, __functionAddress));
     }
 
     // --- [ VROverlay_SetOverlayNeighbor ] ---
@@ -1151,7 +1207,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJJI(eDirection, ulFrom, ulTo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, callJJI(eDirection, ulFrom, ulTo, __functionAddress));
     }
 
     // --- [ VROverlay_MoveGamepadFocusToNeighbor ] ---
@@ -1169,7 +1226,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(eDirection, ulFrom, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, callJI(eDirection, ulFrom, __functionAddress));
     }
 
     // --- [ VROverlay_SetOverlayDualAnalogTransform ] ---
@@ -1180,7 +1238,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlay, eWhich, pvCenter, fRadius, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, callJPI(ulOverlay, eWhich, pvCenter, fRadius, __functionAddress));
     }
 
     /**
@@ -1201,7 +1260,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlay, eWhich, pvCenter, pfRadius, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, callJPPI(ulOverlay, eWhich, pvCenter, pfRadius, __functionAddress));
     }
 
     /**
@@ -1226,7 +1286,8 @@ public class VROverlay {
             check(__functionAddress);
             Texture.validate(pTexture);
         }
-        return callJPI(ulOverlayHandle, pTexture, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, callJPI(ulOverlayHandle, pTexture, __functionAddress));
     }
 
     /** Texture to draw for the overlay. This function can only be called by the overlay's creator or renderer process (see {@link #VROverlay_SetOverlayRenderingPid SetOverlayRenderingPid}). */
@@ -1244,7 +1305,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, callJI(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_SetOverlayRaw ] ---
@@ -1255,7 +1317,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pvBuffer, unWidth, unHeight, unDepth, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, callJPI(ulOverlayHandle, pvBuffer, unWidth, unHeight, unDepth, __functionAddress));
     }
 
     /**
@@ -1275,7 +1338,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pchFilePath, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callJPI(ulOverlayHandle, pchFilePath, __functionAddress));
     }
 
     /**
@@ -1315,7 +1379,8 @@ public class VROverlay {
             check(__functionAddress);
             check(pNativeTextureRef);
         }
-        return callJPPPPPPPPI(ulOverlayHandle, pNativeTextureHandle, pNativeTextureRef, pWidth, pHeight, pNativeFormat, pAPIType, pColorSpace, pTextureBounds, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, callJPPPPPPPPI(ulOverlayHandle, pNativeTextureHandle, pNativeTextureRef, pWidth, pHeight, pNativeFormat, pAPIType, pColorSpace, pTextureBounds, __functionAddress));
     }
 
     /**
@@ -1357,7 +1422,8 @@ public class VROverlay {
             check(__functionAddress);
             check(pNativeTextureHandle);
         }
-        return callJPI(ulOverlayHandle, pNativeTextureHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, callJPI(ulOverlayHandle, pNativeTextureHandle, __functionAddress));
     }
 
     // --- [ VROverlay_GetOverlayTextureSize ] ---
@@ -1368,7 +1434,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(ulOverlayHandle, pWidth, pHeight, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, callJPPI(ulOverlayHandle, pWidth, pHeight, __functionAddress));
     }
 
     /** Get the size of the overlay texture. */
@@ -1389,7 +1456,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(pchOverlayKey, pchOverlayFriendlyName, pMainHandle, pThumbnailHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, callPPPPI(pchOverlayKey, pchOverlayFriendlyName, pMainHandle, pThumbnailHandle, __functionAddress));
     }
 
     /** Creates a dashboard overlay and returns its handle. */
@@ -1432,7 +1500,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, callZ(__functionAddress));
     }
 
     // --- [ VROverlay_IsActiveDashboardOverlay ] ---
@@ -1444,7 +1513,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJZ(ulOverlayHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, callJZ(ulOverlayHandle, __functionAddress));
     }
 
     // --- [ VROverlay_SetDashboardOverlaySceneProcess ] ---
@@ -1456,7 +1526,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(ulOverlayHandle, unProcessId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, callJI(ulOverlayHandle, unProcessId, __functionAddress));
     }
 
     // --- [ VROverlay_GetDashboardOverlaySceneProcess ] ---
@@ -1467,7 +1538,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, punProcessId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, callJPI(ulOverlayHandle, punProcessId, __functionAddress));
     }
 
     /** Gets the process ID that this dashboard overlay requires to have scene focus. */
@@ -1487,7 +1559,9 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pchOverlayToShow, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     /** Shows the dashboard. */
@@ -1519,7 +1593,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 71, __start, callI(__functionAddress));
     }
 
     // --- [ VROverlay_ShowKeyboard ] ---
@@ -1530,7 +1605,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPJI(eInputMode, eLineInputMode, pchDescription, unCharMax, pchExistingText, bUseMinimalMode, uUserValue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, callPPJI(eInputMode, eLineInputMode, pchDescription, unCharMax, pchExistingText, bUseMinimalMode, uUserValue, __functionAddress));
     }
 
     /**
@@ -1576,7 +1652,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPJI(ulOverlayHandle, eInputMode, eLineInputMode, pchDescription, unCharMax, pchExistingText, bUseMinimalMode, uUserValue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 73, __start, callJPPJI(ulOverlayHandle, eInputMode, eLineInputMode, pchDescription, unCharMax, pchExistingText, bUseMinimalMode, uUserValue, __functionAddress));
     }
 
     /**
@@ -1618,7 +1695,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchText, cchText, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, callPI(pchText, cchText, __functionAddress));
     }
 
     /** Get the text that was entered into the text input. */
@@ -1648,7 +1726,9 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     // --- [ VROverlay_SetKeyboardTransformAbsolute ] ---
@@ -1659,7 +1739,9 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(eTrackingOrigin, pmatTrackingOriginToKeyboardTransform, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
     }
 
     /**
@@ -1682,7 +1764,9 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVROverlay_SetKeyboardPositionForOverlay(ulOverlayHandle, avoidRect, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     /** Set the position of the keyboard in overlay space by telling it to avoid a rectangle in the overlay. Rectangle coords have (0,0) in the bottom left. */
@@ -1698,7 +1782,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pMaskPrimitives, unNumMaskPrimitives, unPrimitiveSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, callJPI(ulOverlayHandle, pMaskPrimitives, unNumMaskPrimitives, unPrimitiveSize, __functionAddress));
     }
 
     /** Sets a list of primitives to be used for controller ray intersection typically the size of the underlying UI in pixels(not in world space). */
@@ -1714,7 +1799,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPI(ulOverlayHandle, pFlags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 79, __start, callJPI(ulOverlayHandle, pFlags, __functionAddress));
     }
 
     @NativeType("EVROverlayError")
@@ -1733,7 +1819,8 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPPPI(pchText, pchCaption, pchButton0Text, pchButton1Text, pchButton2Text, pchButton3Text, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, callPPPPPPI(pchText, pchCaption, pchButton0Text, pchButton1Text, pchButton2Text, pchButton3Text, __functionAddress));
     }
 
     /** Show the message overlay. This will block and return you a result. */
@@ -1781,7 +1868,9 @@ public class VROverlay {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
 }
\ No newline at end of file
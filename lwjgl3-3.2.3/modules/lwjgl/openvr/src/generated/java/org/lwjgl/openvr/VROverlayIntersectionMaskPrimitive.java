@@ -204,6 +204,24 @@ public class VROverlayIntersectionMaskPrimitive extends Struct implements Native
         return wrap(VROverlayIntersectionMaskPrimitive.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VROverlayIntersectionMaskPrimitive} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitive malloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionMaskPrimitive.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VROverlayIntersectionMaskPrimitive} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitive calloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionMaskPrimitive.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VROverlayIntersectionMaskPrimitive.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -242,6 +260,26 @@ public class VROverlayIntersectionMaskPrimitive extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VROverlayIntersectionMaskPrimitive.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitive.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VROverlayIntersectionMaskPrimitive.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitive.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_nPrimitiveType}. */
@@ -306,6 +344,16 @@ public class VROverlayIntersectionMaskPrimitive extends Struct implements Native
         /** Passes the {@code m_Primitive} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VROverlayIntersectionMaskPrimitive.Buffer m_Primitive(java.util.function.Consumer<VROverlayIntersectionMaskPrimitiveData> consumer) { consumer.accept(m_Primitive()); return this; }
 
+        /** Copies the {@code m_nPrimitiveType} field of the structs between the current position and limit to the specified array. */
+        public VROverlayIntersectionMaskPrimitive.Buffer getM_nPrimitiveType(int[] dst) { gather(VROverlayIntersectionMaskPrimitive.M_NPRIMITIVETYPE, dst); return this; }
+        /** Copies the {@code m_nPrimitiveType} field of the structs between the current position and limit to the specified buffer. */
+        public VROverlayIntersectionMaskPrimitive.Buffer getM_nPrimitiveType(IntBuffer dst) { gather(VROverlayIntersectionMaskPrimitive.M_NPRIMITIVETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_nPrimitiveType} field of the structs between the current position and limit. */
+        public VROverlayIntersectionMaskPrimitive.Buffer putM_nPrimitiveType(int[] src) { scatter(VROverlayIntersectionMaskPrimitive.M_NPRIMITIVETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nPrimitiveType} field of the structs between the current position and limit. */
+        public VROverlayIntersectionMaskPrimitive.Buffer putM_nPrimitiveType(IntBuffer src) { scatter(VROverlayIntersectionMaskPrimitive.M_NPRIMITIVETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -195,6 +195,24 @@ public class VROverlayIntersectionMaskPrimitiveData extends Struct implements Na
         return wrap(VROverlayIntersectionMaskPrimitiveData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VROverlayIntersectionMaskPrimitiveData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitiveData malloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionMaskPrimitiveData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VROverlayIntersectionMaskPrimitiveData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitiveData calloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionMaskPrimitiveData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VROverlayIntersectionMaskPrimitiveData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -233,6 +251,26 @@ public class VROverlayIntersectionMaskPrimitiveData extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VROverlayIntersectionMaskPrimitiveData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitiveData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VROverlayIntersectionMaskPrimitiveData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionMaskPrimitiveData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_Rectangle}. */
@@ -217,6 +217,24 @@ public class VROverlayIntersectionParams extends Struct implements NativeResourc
         return wrap(VROverlayIntersectionParams.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VROverlayIntersectionParams} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionParams malloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionParams.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VROverlayIntersectionParams} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionParams calloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionParams.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VROverlayIntersectionParams.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -255,6 +273,26 @@ public class VROverlayIntersectionParams extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VROverlayIntersectionParams.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionParams.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VROverlayIntersectionParams.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionParams.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #vSource}. */
@@ -330,6 +368,16 @@ public class VROverlayIntersectionParams extends Struct implements NativeResourc
         /** Sets the specified value to the {@code eOrigin} field. */
         public VROverlayIntersectionParams.Buffer eOrigin(@NativeType("ETrackingUniverseOrigin") int value) { VROverlayIntersectionParams.neOrigin(address(), value); return this; }
 
+        /** Copies the {@code eOrigin} field of the structs between the current position and limit to the specified array. */
+        public VROverlayIntersectionParams.Buffer getEOrigin(int[] dst) { gather(VROverlayIntersectionParams.EORIGIN, dst); return this; }
+        /** Copies the {@code eOrigin} field of the structs between the current position and limit to the specified buffer. */
+        public VROverlayIntersectionParams.Buffer getEOrigin(IntBuffer dst) { gather(VROverlayIntersectionParams.EORIGIN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code eOrigin} field of the structs between the current position and limit. */
+        public VROverlayIntersectionParams.Buffer putEOrigin(int[] src) { scatter(VROverlayIntersectionParams.EORIGIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code eOrigin} field of the structs between the current position and limit. */
+        public VROverlayIntersectionParams.Buffer putEOrigin(IntBuffer src) { scatter(VROverlayIntersectionParams.EORIGIN, src); return this; }
+
     }
 
 }
\ No newline at end of file
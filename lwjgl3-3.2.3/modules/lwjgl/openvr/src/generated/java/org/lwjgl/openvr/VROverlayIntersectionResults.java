@@ -187,6 +187,24 @@ public class VROverlayIntersectionResults extends Struct implements NativeResour
         return wrap(VROverlayIntersectionResults.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VROverlayIntersectionResults} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionResults malloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionResults.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VROverlayIntersectionResults} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VROverlayIntersectionResults calloc(MemoryArena arena) {
+        return wrap(VROverlayIntersectionResults.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VROverlayIntersectionResults.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -225,6 +243,26 @@ public class VROverlayIntersectionResults extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VROverlayIntersectionResults.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionResults.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VROverlayIntersectionResults.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VROverlayIntersectionResults.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #vPoint}. */
@@ -286,6 +324,11 @@ public class VROverlayIntersectionResults extends Struct implements NativeResour
         /** Returns the value of the {@code fDistance} field. */
         public float fDistance() { return VROverlayIntersectionResults.nfDistance(address()); }
 
+        /** Copies the {@code fDistance} field of the structs between the current position and limit to the specified array. */
+        public VROverlayIntersectionResults.Buffer getFDistance(float[] dst) { gather(VROverlayIntersectionResults.FDISTANCE, dst); return this; }
+        /** Copies the {@code fDistance} field of the structs between the current position and limit to the specified buffer. */
+        public VROverlayIntersectionResults.Buffer getFDistance(FloatBuffer dst) { gather(VROverlayIntersectionResults.FDISTANCE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
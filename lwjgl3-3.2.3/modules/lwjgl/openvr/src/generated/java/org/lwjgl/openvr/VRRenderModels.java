@@ -20,6 +20,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRRenderModels {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRRenderModels.class, "VRRenderModels_LoadRenderModel_Async,VRRenderModels_FreeRenderModel,VRRenderModels_LoadTexture_Async,VRRenderModels_FreeTexture,VRRenderModels_LoadTextureD3D11_Async,VRRenderModels_LoadIntoTextureD3D11_Async,VRRenderModels_FreeTextureD3D11,VRRenderModels_GetRenderModelName,VRRenderModels_GetRenderModelCount,VRRenderModels_GetComponentCount,VRRenderModels_GetComponentName,VRRenderModels_GetComponentButtonMask,VRRenderModels_GetComponentRenderModelName,VRRenderModels_GetComponentStateForDevicePath,VRRenderModels_GetComponentState,VRRenderModels_RenderModelHasComponent,VRRenderModels_GetRenderModelThumbnailURL,VRRenderModels_GetRenderModelOriginalPath,VRRenderModels_GetRenderModelErrorNameFromEnum");
+
     protected VRRenderModels() {
         throw new UnsupportedOperationException();
     }
@@ -32,7 +34,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchRenderModelName, ppRenderModel, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pchRenderModelName, ppRenderModel, __functionAddress));
     }
 
     /**
@@ -81,7 +84,9 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pRenderModel, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Frees a previously returned render model It is safe to call this on a null ptr. */
@@ -97,7 +102,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(textureId, ppTexture, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(textureId, ppTexture, __functionAddress));
     }
 
     /** Loads and returns a texture for use in the application. */
@@ -117,7 +123,9 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pTexture, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Frees a previously returned texture. It is safe to call this on a null ptr. */
@@ -134,7 +142,8 @@ public class VRRenderModels {
             check(__functionAddress);
             check(pD3D11Device);
         }
-        return callPPI(textureId, pD3D11Device, ppD3D11Texture2D, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(textureId, pD3D11Device, ppD3D11Texture2D, __functionAddress));
     }
 
     /** Creates a D3D11 texture and loads data into it. */
@@ -156,7 +165,8 @@ public class VRRenderModels {
             check(__functionAddress);
             check(pDstTexture);
         }
-        return callPI(textureId, pDstTexture, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(textureId, pDstTexture, __functionAddress));
     }
 
     // --- [ VRRenderModels_FreeTextureD3D11 ] ---
@@ -168,7 +178,9 @@ public class VRRenderModels {
             check(__functionAddress);
             check(pD3D11Texture2D);
         }
+        long __start = FunctionProfiler.start();
         callPV(pD3D11Texture2D, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ VRRenderModels_GetRenderModelName ] ---
@@ -179,7 +191,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unRenderModelIndex, pchRenderModelName, unRenderModelNameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPI(unRenderModelIndex, pchRenderModelName, unRenderModelNameLen, __functionAddress));
     }
 
     /**
@@ -218,7 +231,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callI(__functionAddress));
     }
 
     // --- [ VRRenderModels_GetComponentCount ] ---
@@ -229,7 +243,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchRenderModelName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPI(pchRenderModelName, __functionAddress));
     }
 
     /**
@@ -270,7 +285,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchRenderModelName, unComponentIndex, pchComponentName, unComponentNameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPI(pchRenderModelName, unComponentIndex, pchComponentName, unComponentNameLen, __functionAddress));
     }
 
     /**
@@ -330,7 +346,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPJ(pchRenderModelName, pchComponentName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPJ(pchRenderModelName, pchComponentName, __functionAddress));
     }
 
     /**
@@ -390,7 +407,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchRenderModelName, pchComponentName, pchComponentRenderModelName, unComponentRenderModelNameLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, callPPPI(pchRenderModelName, pchComponentName, pchComponentRenderModelName, unComponentRenderModelNameLen, __functionAddress));
     }
 
     /**
@@ -452,7 +470,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPJPPZ(pchRenderModelName, pchComponentName, devicePath, pState, pComponentState, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPJPPZ(pchRenderModelName, pchComponentName, devicePath, pState, pComponentState, __functionAddress));
     }
 
     /**
@@ -496,7 +515,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPPZ(pchRenderModelName, pchComponentName, pControllerState, pState, pComponentState, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPPZ(pchRenderModelName, pchComponentName, pControllerState, pState, pComponentState, __functionAddress));
     }
 
     /**
@@ -538,7 +558,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pchRenderModelName, pchComponentName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPZ(pchRenderModelName, pchComponentName, __functionAddress));
     }
 
     /** Returns true if the render model has a component with the specified name. */
@@ -574,7 +595,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchRenderModelName, pchThumbnailURL, unThumbnailURLLen, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPPI(pchRenderModelName, pchThumbnailURL, unThumbnailURLLen, peError, __functionAddress));
     }
 
     /** Returns the URL of the thumbnail image for this rendermodel. */
@@ -629,7 +651,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchRenderModelName, pchOriginalPath, unOriginalPathLen, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, callPPPI(pchRenderModelName, pchOriginalPath, unOriginalPathLen, peError, __functionAddress));
     }
 
     /**
@@ -693,7 +716,8 @@ public class VRRenderModels {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callP(error, __functionAddress));
     }
 
     /** Returns a string for a render model error. */
@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Shared Resource Methods. */
 public class VRResources {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRResources.class, "VRResources_LoadSharedResource,VRResources_GetResourceFullPath");
+
     protected VRResources() {
         throw new UnsupportedOperationException();
     }
@@ -31,7 +33,8 @@ public class VRResources {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchResourceName, pchBuffer, unBufferLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pchResourceName, pchBuffer, unBufferLen, __functionAddress));
     }
 
     /**
@@ -91,7 +94,8 @@ public class VRResources {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchResourceName, pchResourceTypeDirectory, pchPathBuffer, unBufferLen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(pchResourceName, pchResourceTypeDirectory, pchPathBuffer, unBufferLen, __functionAddress));
     }
 
     /**
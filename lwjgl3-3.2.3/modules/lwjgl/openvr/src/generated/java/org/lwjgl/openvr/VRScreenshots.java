@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Allows the application to generate screenshots. */
 public class VRScreenshots {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRScreenshots.class, "VRScreenshots_RequestScreenshot,VRScreenshots_HookScreenshot,VRScreenshots_GetScreenshotPropertyType,VRScreenshots_GetScreenshotPropertyFilename,VRScreenshots_UpdateScreenshotProgress,VRScreenshots_TakeStereoScreenshot,VRScreenshots_SubmitScreenshot");
+
     protected VRScreenshots() {
         throw new UnsupportedOperationException();
     }
@@ -31,7 +33,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pOutScreenshotHandle, type, pchPreviewFilename, pchVRFilename, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(pOutScreenshotHandle, type, pchPreviewFilename, pchVRFilename, __functionAddress));
     }
 
     /**
@@ -101,7 +104,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pSupportedTypes, numTypes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(pSupportedTypes, numTypes, __functionAddress));
     }
 
     /**
@@ -123,7 +127,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(screenshotHandle, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(screenshotHandle, pError, __functionAddress));
     }
 
     /** When your application receives a {@link VR#EVREventType_VREvent_RequestScreenshot} event, call these functions to get the details of the screenshot request. */
@@ -143,7 +148,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(screenshotHandle, filenameType, pchFilename, cchFilename, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(screenshotHandle, filenameType, pchFilename, cchFilename, pError, __functionAddress));
     }
 
     /**
@@ -195,7 +201,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(screenshotHandle, flProgress, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callI(screenshotHandle, flProgress, __functionAddress));
     }
 
     // --- [ VRScreenshots_TakeStereoScreenshot ] ---
@@ -206,7 +213,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pOutScreenshotHandle, pchPreviewFilename, pchVRFilename, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPI(pOutScreenshotHandle, pchPreviewFilename, pchVRFilename, __functionAddress));
     }
 
     /**
@@ -256,7 +264,8 @@ public class VRScreenshots {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(screenshotHandle, type, pchSourcePreviewFilename, pchSourceVRFilename, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPI(screenshotHandle, type, pchSourcePreviewFilename, pchSourceVRFilename, __functionAddress));
     }
 
     /**
@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRSettings {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRSettings.class, "VRSettings_GetSettingsErrorNameFromEnum,VRSettings_Sync,VRSettings_SetBool,VRSettings_SetInt32,VRSettings_SetFloat,VRSettings_SetString,VRSettings_GetBool,VRSettings_GetInt32,VRSettings_GetFloat,VRSettings_GetString,VRSettings_RemoveSection,VRSettings_RemoveKeyInSection");
+
     protected VRSettings() {
         throw new UnsupportedOperationException();
     }
@@ -29,7 +31,8 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(eError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(eError, __functionAddress));
     }
 
     @Nullable
@@ -47,7 +50,8 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(bForce, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPZ(bForce, peError, __functionAddress));
     }
 
     /** Returns true if file sync occurred (force or settings dirty). */
@@ -66,7 +70,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(pchSection, pchSettingsKey, bValue, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     public static void VRSettings_SetBool(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, @NativeType("bool") boolean bValue, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -101,7 +107,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(pchSection, pchSettingsKey, nValue, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     public static void VRSettings_SetInt32(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, @NativeType("int32_t") int nValue, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -136,7 +144,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(pchSection, pchSettingsKey, flValue, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void VRSettings_SetFloat(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, float flValue, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -171,7 +181,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(pchSection, pchSettingsKey, pchValue, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     public static void VRSettings_SetString(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, @NativeType("char const *") ByteBuffer pchValue, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -209,7 +221,8 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPZ(pchSection, pchSettingsKey, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPZ(pchSection, pchSettingsKey, peError, __functionAddress));
     }
 
     @NativeType("bool")
@@ -246,7 +259,8 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(pchSection, pchSettingsKey, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPPPI(pchSection, pchSettingsKey, peError, __functionAddress));
     }
 
     @NativeType("int32_t")
@@ -283,7 +297,8 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPF(pchSection, pchSettingsKey, peError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPF(pchSection, pchSettingsKey, peError, __functionAddress));
     }
 
     public static float VRSettings_GetFloat(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -318,7 +333,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(pchSection, pchSettingsKey, pchValue, unValueLen, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     public static void VRSettings_GetString(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, @NativeType("char *") ByteBuffer pchValue, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -353,7 +370,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pchSection, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     public static void VRSettings_RemoveSection(@NativeType("char const *") ByteBuffer pchSection, @NativeType("EVRSettingsError *") IntBuffer peError) {
@@ -385,7 +404,9 @@ public class VRSettings {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(pchSection, pchSettingsKey, peError, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     public static void VRSettings_RemoveKeyInSection(@NativeType("char const *") ByteBuffer pchSection, @NativeType("char const *") ByteBuffer pchSettingsKey, @NativeType("EVRSettingsError *") IntBuffer peError) {
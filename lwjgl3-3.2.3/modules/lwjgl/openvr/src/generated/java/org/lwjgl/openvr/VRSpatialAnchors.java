@@ -16,6 +16,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRSpatialAnchors {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRSpatialAnchors.class, "VRSpatialAnchors_CreateSpatialAnchorFromDescriptor,VRSpatialAnchors_CreateSpatialAnchorFromPose,VRSpatialAnchors_GetSpatialAnchorPose,VRSpatialAnchors_GetSpatialAnchorDescriptor");
+
     protected VRSpatialAnchors() {
         throw new UnsupportedOperationException();
     }
@@ -28,7 +30,8 @@ public class VRSpatialAnchors {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(pchDescriptor, pHandleOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(pchDescriptor, pHandleOut, __functionAddress));
     }
 
     /**
@@ -71,7 +74,8 @@ public class VRSpatialAnchors {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(unDeviceIndex, eOrigin, pPose, pHandleOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(unDeviceIndex, eOrigin, pPose, pHandleOut, __functionAddress));
     }
 
     /**
@@ -104,7 +108,8 @@ public class VRSpatialAnchors {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unHandle, eOrigin, pPoseOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPI(unHandle, eOrigin, pPoseOut, __functionAddress));
     }
 
     /**
@@ -126,7 +131,8 @@ public class VRSpatialAnchors {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(unHandle, pchDescriptorOut, punDescriptorBufferLenInOut, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(unHandle, pchDescriptorOut, punDescriptorBufferLenInOut, __functionAddress));
     }
 
     /**
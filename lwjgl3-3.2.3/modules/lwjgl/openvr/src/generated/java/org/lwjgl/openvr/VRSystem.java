@@ -27,6 +27,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class VRSystem {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRSystem.class, "VRSystem_GetRecommendedRenderTargetSize,VRSystem_GetProjectionMatrix,VRSystem_GetProjectionRaw,VRSystem_ComputeDistortion,VRSystem_GetEyeToHeadTransform,VRSystem_GetTimeSinceLastVsync,VRSystem_GetD3D9AdapterIndex,VRSystem_GetDXGIOutputInfo,VRSystem_GetOutputDevice,VRSystem_IsDisplayOnDesktop,VRSystem_SetDisplayVisibility,VRSystem_GetDeviceToAbsoluteTrackingPose,VRSystem_ResetSeatedZeroPose,VRSystem_GetSeatedZeroPoseToStandingAbsoluteTrackingPose,VRSystem_GetRawZeroPoseToStandingAbsoluteTrackingPose,VRSystem_GetSortedTrackedDeviceIndicesOfClass,VRSystem_GetTrackedDeviceActivityLevel,VRSystem_ApplyTransform,VRSystem_GetTrackedDeviceIndexForControllerRole,VRSystem_GetControllerRoleForTrackedDeviceIndex,VRSystem_GetTrackedDeviceClass,VRSystem_IsTrackedDeviceConnected,VRSystem_GetBoolTrackedDeviceProperty,VRSystem_GetFloatTrackedDeviceProperty,VRSystem_GetInt32TrackedDeviceProperty,VRSystem_GetUint64TrackedDeviceProperty,VRSystem_GetMatrix34TrackedDeviceProperty,VRSystem_GetArrayTrackedDeviceProperty,VRSystem_GetStringTrackedDeviceProperty,VRSystem_GetPropErrorNameFromEnum,VRSystem_PollNextEvent,VRSystem_PollNextEventWithPose,VRSystem_GetEventTypeNameFromEnum,VRSystem_GetHiddenAreaMesh,VRSystem_GetControllerState,VRSystem_GetControllerStateWithPose,VRSystem_TriggerHapticPulse,VRSystem_GetButtonIdNameFromEnum,VRSystem_GetControllerAxisTypeNameFromEnum,VRSystem_IsInputAvailable,VRSystem_IsSteamVRDrawingControllers,VRSystem_ShouldApplicationPause,VRSystem_ShouldApplicationReduceRenderingWork,VRSystem_PerformFirmwareUpdate,VRSystem_AcknowledgeQuit_Exiting,VRSystem_AcknowledgeQuit_UserPrompt,VRSystem_GetAppContainerFilePaths");
+
     static { OpenVR.initialize(); }
 
     protected VRSystem() {
@@ -41,7 +43,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pnWidth, pnHeight, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -69,7 +73,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRSystem_GetProjectionMatrix(eEye, fNearZ, fFarZ, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -93,7 +99,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(eEye, pfLeft, pfRight, pfTop, pfBottom, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -123,7 +131,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(eEye, fU, fV, pDistortionCoordinates, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPZ(eEye, fU, fV, pDistortionCoordinates, __functionAddress));
     }
 
     /**
@@ -153,7 +162,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRSystem_GetEyeToHeadTransform(eEye, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -177,7 +188,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(pfSecondsSinceLastVsync, pulFrameCounter, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPZ(pfSecondsSinceLastVsync, pulFrameCounter, __functionAddress));
     }
 
     /**
@@ -214,7 +226,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callI(__functionAddress));
     }
 
     // --- [ VRSystem_GetDXGIOutputInfo ] ---
@@ -225,7 +238,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(pnAdapterIndex, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -252,7 +267,9 @@ public class VRSystem {
             check(__functionAddress);
             check(pInstance);
         }
+        long __start = FunctionProfiler.start();
         callPPV(pnDevice, textureType, pInstance, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -300,7 +317,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callZ(__functionAddress));
     }
 
     // --- [ VRSystem_SetDisplayVisibility ] ---
@@ -318,7 +336,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(bIsVisibleOnDesktop, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callZ(bIsVisibleOnDesktop, __functionAddress));
     }
 
     // --- [ VRSystem_GetDeviceToAbsoluteTrackingPose ] ---
@@ -329,7 +348,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(eOrigin, fPredictedSecondsToPhotonsFromNow, pTrackedDevicePoseArray, unTrackedDevicePoseArrayCount, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -371,7 +392,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ VRSystem_GetSeatedZeroPoseToStandingAbsoluteTrackingPose ] ---
@@ -385,7 +408,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRSystem_GetSeatedZeroPoseToStandingAbsoluteTrackingPose(__functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     /**
@@ -412,7 +437,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRSystem_GetRawZeroPoseToStandingAbsoluteTrackingPose(__functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -433,7 +460,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(eTrackedDeviceClass, punTrackedDeviceIndexArray, unTrackedDeviceIndexArrayCount, unRelativeToTrackedDeviceIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPI(eTrackedDeviceClass, punTrackedDeviceIndexArray, unTrackedDeviceIndexArrayCount, unRelativeToTrackedDeviceIndex, __functionAddress));
     }
 
     /**
@@ -458,7 +486,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(unDeviceId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callI(unDeviceId, __functionAddress));
     }
 
     // --- [ VRSystem_ApplyTransform ] ---
@@ -469,7 +498,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(pOutputPose, pTrackedDevicePose, pTransform, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -495,7 +526,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(unDeviceType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callI(unDeviceType, __functionAddress));
     }
 
     // --- [ VRSystem_GetControllerRoleForTrackedDeviceIndex ] ---
@@ -511,7 +543,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(unDeviceIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callI(unDeviceIndex, __functionAddress));
     }
 
     // --- [ VRSystem_GetTrackedDeviceClass ] ---
@@ -531,7 +564,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(unDeviceIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callI(unDeviceIndex, __functionAddress));
     }
 
     // --- [ VRSystem_IsTrackedDeviceConnected ] ---
@@ -547,7 +581,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(unDeviceIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callZ(unDeviceIndex, __functionAddress));
     }
 
     // --- [ VRSystem_GetBoolTrackedDeviceProperty ] ---
@@ -558,7 +593,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(unDeviceIndex, prop, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, callPZ(unDeviceIndex, prop, pError, __functionAddress));
     }
 
     /**
@@ -584,7 +620,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPF(unDeviceIndex, prop, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPF(unDeviceIndex, prop, pError, __functionAddress));
     }
 
     /**
@@ -609,7 +646,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(unDeviceIndex, prop, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, callPI(unDeviceIndex, prop, pError, __functionAddress));
     }
 
     /**
@@ -635,7 +673,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJ(unDeviceIndex, prop, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPJ(unDeviceIndex, prop, pError, __functionAddress));
     }
 
     /**
@@ -664,7 +703,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRSystem_GetMatrix34TrackedDeviceProperty(unDeviceIndex, prop, pError, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -691,7 +732,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(unDeviceIndex, prop, propType, pBuffer, unBufferSize, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, callPPI(unDeviceIndex, prop, propType, pBuffer, unBufferSize, pError, __functionAddress));
     }
 
     /**
@@ -725,7 +767,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(unDeviceIndex, prop, pchValue, unBufferSize, pError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPPI(unDeviceIndex, prop, pchValue, unBufferSize, pError, __functionAddress));
     }
 
     /**
@@ -793,7 +836,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callP(error, __functionAddress));
     }
 
     /**
@@ -816,7 +860,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(pEvent, uncbVREvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, callPZ(pEvent, uncbVREvent, __functionAddress));
     }
 
     /**
@@ -848,7 +893,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(eOrigin, pEvent, uncbVREvent, pTrackedDevicePose, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, callPPZ(eOrigin, pEvent, uncbVREvent, pTrackedDevicePose, __functionAddress));
     }
 
     /**
@@ -888,7 +934,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(eType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, callP(eType, __functionAddress));
     }
 
     /**
@@ -914,7 +961,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         nVRSystem_GetHiddenAreaMesh(eEye, type, __functionAddress, __result);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -945,7 +994,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPZ(unControllerDeviceIndex, pControllerState, unControllerStateSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPZ(unControllerDeviceIndex, pControllerState, unControllerStateSize, __functionAddress));
     }
 
     /**
@@ -987,7 +1037,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPZ(eOrigin, unControllerDeviceIndex, pControllerState, unControllerStateSize, pTrackedDevicePose, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPZ(eOrigin, unControllerDeviceIndex, pControllerState, unControllerStateSize, pTrackedDevicePose, __functionAddress));
     }
 
     /**
@@ -1040,7 +1091,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(unControllerDeviceIndex, unAxisId, usDurationMicroSec, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ VRSystem_GetButtonIdNameFromEnum ] ---
@@ -1051,7 +1104,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(eButtonId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callP(eButtonId, __functionAddress));
     }
 
     /**
@@ -1076,7 +1130,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(eAxisType, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callP(eAxisType, __functionAddress));
     }
 
     /**
@@ -1103,7 +1158,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callZ(__functionAddress));
     }
 
     // --- [ VRSystem_IsSteamVRDrawingControllers ] ---
@@ -1118,7 +1174,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callZ(__functionAddress));
     }
 
     // --- [ VRSystem_ShouldApplicationPause ] ---
@@ -1133,7 +1190,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, callZ(__functionAddress));
     }
 
     // --- [ VRSystem_ShouldApplicationReduceRenderingWork ] ---
@@ -1148,7 +1206,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callZ(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callZ(__functionAddress));
     }
 
     // --- [ VRSystem_PerformFirmwareUpdate ] ---
@@ -1169,7 +1228,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callI(unDeviceIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, callI(unDeviceIndex, __functionAddress));
     }
 
     // --- [ VRSystem_AcknowledgeQuit_Exiting ] ---
@@ -1183,7 +1243,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ VRSystem_AcknowledgeQuit_UserPrompt ] ---
@@ -1197,7 +1259,9 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callV(__functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ VRSystem_GetAppContainerFilePaths ] ---
@@ -1208,7 +1272,8 @@ public class VRSystem {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pchBuffer, unBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, callPI(pchBuffer, unBufferSize, __functionAddress));
     }
 
     /**
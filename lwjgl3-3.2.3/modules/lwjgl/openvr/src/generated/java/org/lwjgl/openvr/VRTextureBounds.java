@@ -222,6 +222,24 @@ public class VRTextureBounds extends Struct implements NativeResource {
         return wrap(VRTextureBounds.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VRTextureBounds} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRTextureBounds malloc(MemoryArena arena) {
+        return wrap(VRTextureBounds.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VRTextureBounds} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRTextureBounds calloc(MemoryArena arena) {
+        return wrap(VRTextureBounds.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VRTextureBounds.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class VRTextureBounds extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VRTextureBounds.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRTextureBounds.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VRTextureBounds.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRTextureBounds.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #uMin}. */
@@ -336,6 +374,40 @@ public class VRTextureBounds extends Struct implements NativeResource {
         /** Sets the specified value to the {@code vMax} field. */
         public VRTextureBounds.Buffer vMax(float value) { VRTextureBounds.nvMax(address(), value); return this; }
 
+        /** Copies the {@code uMin} field of the structs between the current position and limit to the specified array. */
+        public VRTextureBounds.Buffer getUMin(float[] dst) { gather(VRTextureBounds.UMIN, dst); return this; }
+        /** Copies the {@code uMin} field of the structs between the current position and limit to the specified buffer. */
+        public VRTextureBounds.Buffer getUMin(FloatBuffer dst) { gather(VRTextureBounds.UMIN, dst); return this; }
+        /** Copies the {@code vMin} field of the structs between the current position and limit to the specified array. */
+        public VRTextureBounds.Buffer getVMin(float[] dst) { gather(VRTextureBounds.VMIN, dst); return this; }
+        /** Copies the {@code vMin} field of the structs between the current position and limit to the specified buffer. */
+        public VRTextureBounds.Buffer getVMin(FloatBuffer dst) { gather(VRTextureBounds.VMIN, dst); return this; }
+        /** Copies the {@code uMax} field of the structs between the current position and limit to the specified array. */
+        public VRTextureBounds.Buffer getUMax(float[] dst) { gather(VRTextureBounds.UMAX, dst); return this; }
+        /** Copies the {@code uMax} field of the structs between the current position and limit to the specified buffer. */
+        public VRTextureBounds.Buffer getUMax(FloatBuffer dst) { gather(VRTextureBounds.UMAX, dst); return this; }
+        /** Copies the {@code vMax} field of the structs between the current position and limit to the specified array. */
+        public VRTextureBounds.Buffer getVMax(float[] dst) { gather(VRTextureBounds.VMAX, dst); return this; }
+        /** Copies the {@code vMax} field of the structs between the current position and limit to the specified buffer. */
+        public VRTextureBounds.Buffer getVMax(FloatBuffer dst) { gather(VRTextureBounds.VMAX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code uMin} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putUMin(float[] src) { scatter(VRTextureBounds.UMIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code uMin} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putUMin(FloatBuffer src) { scatter(VRTextureBounds.UMIN, src); return this; }
+        /** Copies the values in the specified array to the {@code vMin} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putVMin(float[] src) { scatter(VRTextureBounds.VMIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vMin} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putVMin(FloatBuffer src) { scatter(VRTextureBounds.VMIN, src); return this; }
+        /** Copies the values in the specified array to the {@code uMax} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putUMax(float[] src) { scatter(VRTextureBounds.UMAX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code uMax} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putUMax(FloatBuffer src) { scatter(VRTextureBounds.UMAX, src); return this; }
+        /** Copies the values in the specified array to the {@code vMax} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putVMax(float[] src) { scatter(VRTextureBounds.VMAX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vMax} field of the structs between the current position and limit. */
+        public VRTextureBounds.Buffer putVMax(FloatBuffer src) { scatter(VRTextureBounds.VMAX, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 
 public class VRTrackedCamera {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VRTrackedCamera.class, "VRTrackedCamera_GetCameraErrorNameFromEnum,VRTrackedCamera_HasCamera,VRTrackedCamera_GetCameraFrameSize,VRTrackedCamera_GetCameraIntrinsics,VRTrackedCamera_GetCameraProjection,VRTrackedCamera_AcquireVideoStreamingService,VRTrackedCamera_ReleaseVideoStreamingService,VRTrackedCamera_GetVideoStreamFrameBuffer,VRTrackedCamera_GetVideoStreamTextureSize,VRTrackedCamera_GetVideoStreamTextureD3D11,VRTrackedCamera_GetVideoStreamTextureGL,VRTrackedCamera_ReleaseVideoStreamTextureGL");
+
     protected VRTrackedCamera() {
         throw new UnsupportedOperationException();
     }
@@ -31,7 +33,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callP(eCameraError, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callP(eCameraError, __functionAddress));
     }
 
     /**
@@ -54,7 +57,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(nDeviceIndex, pHasCamera, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(nDeviceIndex, pHasCamera, __functionAddress));
     }
 
     /** For convenience, same as tracked property request {@link VR#ETrackedDeviceProperty_Prop_HasCamera_Bool}. */
@@ -74,7 +78,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(nDeviceIndex, eFrameType, pnWidth, pnHeight, pnFrameBufferSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(nDeviceIndex, eFrameType, pnWidth, pnHeight, pnFrameBufferSize, __functionAddress));
     }
 
     /**
@@ -100,7 +105,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(nDeviceIndex, nCameraIndex, eFrameType, pFocalLength, pCenter, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(nDeviceIndex, nCameraIndex, eFrameType, pFocalLength, pCenter, __functionAddress));
     }
 
     /** @param eFrameType one of:<br><table><tr><td>{@link VR#EVRTrackedCameraFrameType_VRTrackedCameraFrameType_Distorted}</td></tr><tr><td>{@link VR#EVRTrackedCameraFrameType_VRTrackedCameraFrameType_Undistorted}</td></tr><tr><td>{@link VR#EVRTrackedCameraFrameType_VRTrackedCameraFrameType_MaximumUndistorted}</td></tr><tr><td>{@link VR#EVRTrackedCameraFrameType_MAX_CAMERA_FRAME_TYPES}</td></tr></table> */
@@ -121,7 +127,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(nDeviceIndex, nCameraIndex, eFrameType, flZNear, flZFar, pProjection, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPI(nDeviceIndex, nCameraIndex, eFrameType, flZNear, flZFar, pProjection, __functionAddress));
     }
 
     /** @param eFrameType one of:<br><table><tr><td>{@link VR#EVRTrackedCameraFrameType_VRTrackedCameraFrameType_Distorted}</td></tr><tr><td>{@link VR#EVRTrackedCameraFrameType_VRTrackedCameraFrameType_Undistorted}</td></tr><tr><td>{@link VR#EVRTrackedCameraFrameType_VRTrackedCameraFrameType_MaximumUndistorted}</td></tr><tr><td>{@link VR#EVRTrackedCameraFrameType_MAX_CAMERA_FRAME_TYPES}</td></tr></table> */
@@ -138,7 +145,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(nDeviceIndex, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPI(nDeviceIndex, pHandle, __functionAddress));
     }
 
     /**
@@ -163,7 +171,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(hTrackedCamera, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callJI(hTrackedCamera, __functionAddress));
     }
 
     // --- [ VRTrackedCamera_GetVideoStreamFrameBuffer ] ---
@@ -174,7 +183,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(hTrackedCamera, eFrameType, pFrameBuffer, nFrameBufferSize, pFrameHeader, nFrameHeaderSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callJPPI(hTrackedCamera, eFrameType, pFrameBuffer, nFrameBufferSize, pFrameHeader, nFrameHeaderSize, __functionAddress));
     }
 
     /**
@@ -198,7 +208,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(nDeviceIndex, eFrameType, pTextureBounds, pnWidth, pnHeight, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPI(nDeviceIndex, eFrameType, pTextureBounds, pnWidth, pnHeight, __functionAddress));
     }
 
     /**
@@ -224,7 +235,8 @@ public class VRTrackedCamera {
             check(__functionAddress);
             check(pD3D11DeviceOrResource);
         }
-        return callJPPPI(hTrackedCamera, eFrameType, pD3D11DeviceOrResource, ppD3D11ShaderResourceView, pFrameHeader, nFrameHeaderSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callJPPPI(hTrackedCamera, eFrameType, pD3D11DeviceOrResource, ppD3D11ShaderResourceView, pFrameHeader, nFrameHeaderSize, __functionAddress));
     }
 
     /**
@@ -277,7 +289,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJPPI(hTrackedCamera, eFrameType, pglTextureId, pFrameHeader, nFrameHeaderSize, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callJPPI(hTrackedCamera, eFrameType, pglTextureId, pFrameHeader, nFrameHeaderSize, __functionAddress));
     }
 
     /**
@@ -314,7 +327,8 @@ public class VRTrackedCamera {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callJI(hTrackedCamera, glTextureId, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callJI(hTrackedCamera, glTextureId, __functionAddress));
     }
 
 }
\ No newline at end of file
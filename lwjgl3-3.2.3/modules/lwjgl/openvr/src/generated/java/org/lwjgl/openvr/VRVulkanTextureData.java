@@ -302,6 +302,24 @@ public class VRVulkanTextureData extends Struct implements NativeResource {
         return wrap(VRVulkanTextureData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VRVulkanTextureData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRVulkanTextureData malloc(MemoryArena arena) {
+        return wrap(VRVulkanTextureData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VRVulkanTextureData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VRVulkanTextureData calloc(MemoryArena arena) {
+        return wrap(VRVulkanTextureData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VRVulkanTextureData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -340,6 +358,26 @@ public class VRVulkanTextureData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VRVulkanTextureData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRVulkanTextureData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VRVulkanTextureData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VRVulkanTextureData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #m_nImage}. */
@@ -498,6 +536,56 @@ public class VRVulkanTextureData extends Struct implements NativeResource {
         /** Sets the specified value to the {@code m_nSampleCount} field. */
         public VRVulkanTextureData.Buffer m_nSampleCount(@NativeType("uint32_t") int value) { VRVulkanTextureData.nm_nSampleCount(address(), value); return this; }
 
+        /** Copies the {@code m_nImage} field of the structs between the current position and limit to the specified array. */
+        public VRVulkanTextureData.Buffer getM_nImage(long[] dst) { gather(VRVulkanTextureData.M_NIMAGE, dst); return this; }
+        /** Copies the {@code m_nImage} field of the structs between the current position and limit to the specified buffer. */
+        public VRVulkanTextureData.Buffer getM_nImage(LongBuffer dst) { gather(VRVulkanTextureData.M_NIMAGE, dst); return this; }
+        /** Copies the {@code m_nQueueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VRVulkanTextureData.Buffer getM_nQueueFamilyIndex(int[] dst) { gather(VRVulkanTextureData.M_NQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code m_nQueueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VRVulkanTextureData.Buffer getM_nQueueFamilyIndex(IntBuffer dst) { gather(VRVulkanTextureData.M_NQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code m_nWidth} field of the structs between the current position and limit to the specified array. */
+        public VRVulkanTextureData.Buffer getM_nWidth(int[] dst) { gather(VRVulkanTextureData.M_NWIDTH, dst); return this; }
+        /** Copies the {@code m_nWidth} field of the structs between the current position and limit to the specified buffer. */
+        public VRVulkanTextureData.Buffer getM_nWidth(IntBuffer dst) { gather(VRVulkanTextureData.M_NWIDTH, dst); return this; }
+        /** Copies the {@code m_nHeight} field of the structs between the current position and limit to the specified array. */
+        public VRVulkanTextureData.Buffer getM_nHeight(int[] dst) { gather(VRVulkanTextureData.M_NHEIGHT, dst); return this; }
+        /** Copies the {@code m_nHeight} field of the structs between the current position and limit to the specified buffer. */
+        public VRVulkanTextureData.Buffer getM_nHeight(IntBuffer dst) { gather(VRVulkanTextureData.M_NHEIGHT, dst); return this; }
+        /** Copies the {@code m_nFormat} field of the structs between the current position and limit to the specified array. */
+        public VRVulkanTextureData.Buffer getM_nFormat(int[] dst) { gather(VRVulkanTextureData.M_NFORMAT, dst); return this; }
+        /** Copies the {@code m_nFormat} field of the structs between the current position and limit to the specified buffer. */
+        public VRVulkanTextureData.Buffer getM_nFormat(IntBuffer dst) { gather(VRVulkanTextureData.M_NFORMAT, dst); return this; }
+        /** Copies the {@code m_nSampleCount} field of the structs between the current position and limit to the specified array. */
+        public VRVulkanTextureData.Buffer getM_nSampleCount(int[] dst) { gather(VRVulkanTextureData.M_NSAMPLECOUNT, dst); return this; }
+        /** Copies the {@code m_nSampleCount} field of the structs between the current position and limit to the specified buffer. */
+        public VRVulkanTextureData.Buffer getM_nSampleCount(IntBuffer dst) { gather(VRVulkanTextureData.M_NSAMPLECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code m_nImage} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nImage(long[] src) { scatter(VRVulkanTextureData.M_NIMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nImage} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nImage(LongBuffer src) { scatter(VRVulkanTextureData.M_NIMAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nQueueFamilyIndex(int[] src) { scatter(VRVulkanTextureData.M_NQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nQueueFamilyIndex(IntBuffer src) { scatter(VRVulkanTextureData.M_NQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nWidth} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nWidth(int[] src) { scatter(VRVulkanTextureData.M_NWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nWidth} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nWidth(IntBuffer src) { scatter(VRVulkanTextureData.M_NWIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nHeight} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nHeight(int[] src) { scatter(VRVulkanTextureData.M_NHEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nHeight} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nHeight(IntBuffer src) { scatter(VRVulkanTextureData.M_NHEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nFormat} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nFormat(int[] src) { scatter(VRVulkanTextureData.M_NFORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nFormat} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nFormat(IntBuffer src) { scatter(VRVulkanTextureData.M_NFORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code m_nSampleCount} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nSampleCount(int[] src) { scatter(VRVulkanTextureData.M_NSAMPLECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code m_nSampleCount} field of the structs between the current position and limit. */
+        public VRVulkanTextureData.Buffer putM_nSampleCount(IntBuffer src) { scatter(VRVulkanTextureData.M_NSAMPLECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
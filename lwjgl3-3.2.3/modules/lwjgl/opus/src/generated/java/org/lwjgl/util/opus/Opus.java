@@ -500,6 +500,8 @@ public class Opus {
         OPUS_FRAMESIZE_100_MS = 5008,
         OPUS_FRAMESIZE_120_MS = 5009;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Opus.class, "opus_encoder_get_size,opus_encoder_create,opus_encoder_init,opus_encode,opus_encode_float,opus_encoder_destroy,opus_encoder_ctl,opus_decoder_get_size,opus_decoder_create,opus_decoder_init,opus_decode,opus_decode_float,opus_decoder_ctl,opus_decoder_destroy,opus_packet_parse,opus_packet_get_bandwidth,opus_packet_get_samples_per_frame,opus_packet_get_nb_channels,opus_packet_get_nb_frames,opus_packet_get_nb_samples,opus_decoder_get_nb_samples,opus_pcm_soft_clip,opus_repacketizer_get_size,opus_repacketizer_init,opus_repacketizer_create,opus_repacketizer_destroy,opus_repacketizer_cat,opus_repacketizer_out_range,opus_repacketizer_get_nb_frames,opus_repacketizer_out,opus_packet_pad,opus_packet_unpad,opus_multistream_packet_pad,opus_multistream_packet_unpad,opus_strerror,opus_get_version_string");
+
     protected Opus() {
         throw new UnsupportedOperationException();
     }
@@ -568,7 +570,8 @@ public class Opus {
      */
     public static int opus_encoder_get_size(int channels) {
         long __functionAddress = Functions.encoder_get_size;
-        return invokeI(channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(channels, __functionAddress));
     }
 
     // --- [ opus_encoder_create ] ---
@@ -576,7 +579,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_encoder_create encoder_create} */
     public static long nopus_encoder_create(int Fs, int channels, int application, long error) {
         long __functionAddress = Functions.encoder_create;
-        return invokePP(Fs, channels, application, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePP(Fs, channels, application, error, __functionAddress));
     }
 
     /**
@@ -641,7 +645,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, Fs, channels, application, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePI(st, Fs, channels, application, __functionAddress));
     }
 
     // --- [ opus_encode ] ---
@@ -657,7 +662,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress));
     }
 
     /**
@@ -693,7 +699,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress));
     }
 
     /**
@@ -730,7 +737,9 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
+        long __start = FunctionProfiler.start();
         invokePV(st, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ opus_encoder_ctl ] ---
@@ -745,7 +754,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_decoder_get_size ] ---
@@ -759,7 +769,8 @@ public class Opus {
      */
     public static int opus_decoder_get_size(int channels) {
         long __functionAddress = Functions.decoder_get_size;
-        return invokeI(channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokeI(channels, __functionAddress));
     }
 
     // --- [ opus_decoder_create ] ---
@@ -767,7 +778,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_decoder_create decoder_create} */
     public static long nopus_decoder_create(int Fs, int channels, long error) {
         long __functionAddress = Functions.decoder_create;
-        return invokePP(Fs, channels, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePP(Fs, channels, error, __functionAddress));
     }
 
     /**
@@ -811,7 +823,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, Fs, channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePI(st, Fs, channels, __functionAddress));
     }
 
     // --- [ opus_decode ] ---
@@ -826,7 +839,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress));
     }
 
     /**
@@ -865,7 +879,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress));
     }
 
     /**
@@ -904,7 +919,8 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_decoder_destroy ] ---
@@ -919,7 +935,9 @@ public class Opus {
         if (CHECKS) {
             check(st);
         }
+        long __start = FunctionProfiler.start();
         invokePV(st, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ opus_packet_parse ] ---
@@ -931,7 +949,8 @@ public class Opus {
      */
     public static int nopus_packet_parse(long data, int len, long out_toc, long frames, long size, long payload_offset) {
         long __functionAddress = Functions.packet_parse;
-        return invokePPPPPI(data, len, out_toc, frames, size, payload_offset, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPPPPI(data, len, out_toc, frames, size, payload_offset, __functionAddress));
     }
 
     /**
@@ -962,7 +981,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_packet_get_bandwidth packet_get_bandwidth} */
     public static int nopus_packet_get_bandwidth(long data) {
         long __functionAddress = Functions.packet_get_bandwidth;
-        return invokePI(data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePI(data, __functionAddress));
     }
 
     /**
@@ -984,7 +1004,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_packet_get_samples_per_frame packet_get_samples_per_frame} */
     public static int nopus_packet_get_samples_per_frame(long data, int Fs) {
         long __functionAddress = Functions.packet_get_samples_per_frame;
-        return invokePI(data, Fs, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, invokePI(data, Fs, __functionAddress));
     }
 
     /**
@@ -1007,7 +1028,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_packet_get_nb_channels packet_get_nb_channels} */
     public static int nopus_packet_get_nb_channels(long data) {
         long __functionAddress = Functions.packet_get_nb_channels;
-        return invokePI(data, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, invokePI(data, __functionAddress));
     }
 
     /**
@@ -1030,7 +1052,8 @@ public class Opus {
      */
     public static int nopus_packet_get_nb_frames(long packet, int len) {
         long __functionAddress = Functions.packet_get_nb_frames;
-        return invokePI(packet, len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, invokePI(packet, len, __functionAddress));
     }
 
     /**
@@ -1054,7 +1077,8 @@ public class Opus {
      */
     public static int nopus_packet_get_nb_samples(long packet, int len, int Fs) {
         long __functionAddress = Functions.packet_get_nb_samples;
-        return invokePI(packet, len, Fs, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, invokePI(packet, len, Fs, __functionAddress));
     }
 
     /**
@@ -1082,7 +1106,8 @@ public class Opus {
         if (CHECKS) {
             check(dec);
         }
-        return invokePPI(dec, packet, len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, invokePPI(dec, packet, len, __functionAddress));
     }
 
     /**
@@ -1107,7 +1132,9 @@ public class Opus {
      */
     public static void nopus_pcm_soft_clip(long pcm, int frame_size, int channels, long softclip_mem) {
         long __functionAddress = Functions.pcm_soft_clip;
+        long __start = FunctionProfiler.start();
         invokePPV(pcm, frame_size, channels, softclip_mem, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /**
@@ -1135,7 +1162,8 @@ public class Opus {
      */
     public static int opus_repacketizer_get_size() {
         long __functionAddress = Functions.repacketizer_get_size;
-        return invokeI(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, invokeI(__functionAddress));
     }
 
     // --- [ opus_repacketizer_init ] ---
@@ -1158,7 +1186,8 @@ public class Opus {
         if (CHECKS) {
             check(rp);
         }
-        return invokePP(rp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, invokePP(rp, __functionAddress));
     }
 
     // --- [ opus_repacketizer_create ] ---
@@ -1167,7 +1196,8 @@ public class Opus {
     @NativeType("OpusRepacketizer *")
     public static long opus_repacketizer_create() {
         long __functionAddress = Functions.repacketizer_create;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, invokeP(__functionAddress));
     }
 
     // --- [ opus_repacketizer_destroy ] ---
@@ -1182,7 +1212,9 @@ public class Opus {
         if (CHECKS) {
             check(rp);
         }
+        long __start = FunctionProfiler.start();
         invokePV(rp, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ opus_repacketizer_cat ] ---
@@ -1197,7 +1229,8 @@ public class Opus {
         if (CHECKS) {
             check(rp);
         }
-        return invokePPI(rp, data, len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, invokePPI(rp, data, len, __functionAddress));
     }
 
     /**
@@ -1239,7 +1272,8 @@ public class Opus {
         if (CHECKS) {
             check(rp);
         }
-        return invokePPI(rp, begin, end, data, maxlen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePPI(rp, begin, end, data, maxlen, __functionAddress));
     }
 
     /**
@@ -1276,7 +1310,8 @@ public class Opus {
         if (CHECKS) {
             check(rp);
         }
-        return invokePI(rp, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, invokePI(rp, __functionAddress));
     }
 
     // --- [ opus_repacketizer_out ] ---
@@ -1293,7 +1328,8 @@ public class Opus {
         if (CHECKS) {
             check(rp);
         }
-        return invokePPI(rp, data, maxlen, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, invokePPI(rp, data, maxlen, __functionAddress));
     }
 
     /**
@@ -1317,7 +1353,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_packet_pad packet_pad} */
     public static int nopus_packet_pad(long data, int len, int new_len) {
         long __functionAddress = Functions.packet_pad;
-        return invokePI(data, len, new_len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, invokePI(data, len, new_len, __functionAddress));
     }
 
     /**
@@ -1342,7 +1379,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_packet_unpad packet_unpad} */
     public static int nopus_packet_unpad(long data, int len) {
         long __functionAddress = Functions.packet_unpad;
-        return invokePI(data, len, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, invokePI(data, len, __functionAddress));
     }
 
     /**
@@ -1367,7 +1405,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_multistream_packet_pad multistream_packet_pad} */
     public static int nopus_multistream_packet_pad(long data, int len, int new_len, int nb_streams) {
         long __functionAddress = Functions.multistream_packet_pad;
-        return invokePI(data, len, new_len, nb_streams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, invokePI(data, len, new_len, nb_streams, __functionAddress));
     }
 
     /**
@@ -1393,7 +1432,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_multistream_packet_unpad multistream_packet_unpad} */
     public static int nopus_multistream_packet_unpad(long data, int len, int nb_streams) {
         long __functionAddress = Functions.multistream_packet_unpad;
-        return invokePI(data, len, nb_streams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePI(data, len, nb_streams, __functionAddress));
     }
 
     /**
@@ -1419,7 +1459,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_strerror strerror} */
     public static long nopus_strerror(int error) {
         long __functionAddress = Functions.strerror;
-        return invokeP(error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, invokeP(error, __functionAddress));
     }
 
     /**
@@ -1441,7 +1482,8 @@ public class Opus {
     /** Unsafe version of: {@link #opus_get_version_string get_version_string} */
     public static long nopus_get_version_string() {
         long __functionAddress = Functions.get_version_string;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokeP(__functionAddress));
     }
 
     /**
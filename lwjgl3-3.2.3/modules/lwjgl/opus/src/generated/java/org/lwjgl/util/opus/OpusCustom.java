@@ -39,6 +39,8 @@ import static org.lwjgl.util.opus.Opus.*;
  */
 public class OpusCustom {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OpusCustom.class, "opus_custom_mode_create,opus_custom_mode_destroy,opus_custom_encoder_get_size,opus_custom_encoder_init,opus_custom_encoder_create,opus_custom_encoder_destroy,opus_custom_encode_float,opus_custom_encode,opus_custom_encoder_ctl,opus_custom_decoder_get_size,opus_custom_decoder_init,opus_custom_decoder_create,opus_custom_decoder_destroy,opus_custom_decode_float,opus_custom_decode,opus_custom_decoder_ctl");
+
     protected OpusCustom() {
         throw new UnsupportedOperationException();
     }
@@ -74,7 +76,8 @@ public class OpusCustom {
     /** Unsafe version of: {@link #opus_custom_mode_create custom_mode_create} */
     public static long nopus_custom_mode_create(int Fs, int frame_size, long error) {
         long __functionAddress = Functions.custom_mode_create;
-        return invokePP(Fs, frame_size, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokePP(Fs, frame_size, error, __functionAddress));
     }
 
     /**
@@ -105,7 +108,9 @@ public class OpusCustom {
         if (CHECKS) {
             check(mode);
         }
+        long __start = FunctionProfiler.start();
         invokePV(mode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ opus_custom_encoder_get_size ] ---
@@ -123,7 +128,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(mode);
         }
-        return invokePI(mode, channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePI(mode, channels, __functionAddress));
     }
 
     // --- [ opus_custom_encoder_init ] ---
@@ -148,7 +154,8 @@ public class OpusCustom {
             check(st);
             check(mode);
         }
-        return invokePPI(st, mode, channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPI(st, mode, channels, __functionAddress));
     }
 
     // --- [ opus_custom_encoder_create ] ---
@@ -159,7 +166,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(mode);
         }
-        return invokePPP(mode, channels, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPP(mode, channels, error, __functionAddress));
     }
 
     /**
@@ -193,7 +201,9 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
+        long __start = FunctionProfiler.start();
         invokePV(st, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ opus_custom_encode_float ] ---
@@ -208,7 +218,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, compressed, maxCompressedBytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePPPI(st, pcm, frame_size, compressed, maxCompressedBytes, __functionAddress));
     }
 
     /**
@@ -242,7 +253,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, compressed, maxCompressedBytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePPPI(st, pcm, frame_size, compressed, maxCompressedBytes, __functionAddress));
     }
 
     /**
@@ -274,7 +286,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_custom_decoder_get_size ] ---
@@ -292,7 +305,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(mode);
         }
-        return invokePI(mode, channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePI(mode, channels, __functionAddress));
     }
 
     // --- [ opus_custom_decoder_init ] ---
@@ -317,7 +331,8 @@ public class OpusCustom {
             check(st);
             check(mode);
         }
-        return invokePPI(st, mode, channels, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPI(st, mode, channels, __functionAddress));
     }
 
     // --- [ opus_custom_decoder_create ] ---
@@ -328,7 +343,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(mode);
         }
-        return invokePPP(mode, channels, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPP(mode, channels, error, __functionAddress));
     }
 
     /**
@@ -362,7 +378,9 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
+        long __start = FunctionProfiler.start();
         invokePV(st, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ opus_custom_decode_float ] ---
@@ -377,7 +395,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPPI(st, data, len, pcm, frame_size, __functionAddress));
     }
 
     /**
@@ -409,7 +428,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPPI(st, data, len, pcm, frame_size, __functionAddress));
     }
 
     /**
@@ -441,7 +461,8 @@ public class OpusCustom {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePI(st, __functionAddress));
     }
 
     /**
@@ -74,6 +74,8 @@ public class OpusMultistream {
         OPUS_MULTISTREAM_GET_ENCODER_STATE_REQUEST = 5120,
         OPUS_MULTISTREAM_GET_DECODER_STATE_REQUEST = 5122;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OpusMultistream.class, "opus_multistream_encoder_get_size,opus_multistream_surround_encoder_get_size,opus_multistream_encoder_create,opus_multistream_surround_encoder_create,opus_multistream_encoder_init,opus_multistream_surround_encoder_init,opus_multistream_encode,opus_multistream_encode_float,opus_multistream_encoder_destroy,opus_multistream_encoder_ctl,opus_multistream_decoder_get_size,opus_multistream_decoder_create,opus_multistream_decoder_init,opus_multistream_decode,opus_multistream_decode_float,opus_multistream_decoder_ctl,opus_multistream_decoder_destroy");
+
     protected OpusMultistream() {
         throw new UnsupportedOperationException();
     }
@@ -119,7 +121,8 @@ public class OpusMultistream {
     @NativeType("opus_int32")
     public static int opus_multistream_encoder_get_size(int streams, int coupled_streams) {
         long __functionAddress = Functions.multistream_encoder_get_size;
-        return invokeI(streams, coupled_streams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(streams, coupled_streams, __functionAddress));
     }
 
     // --- [ opus_multistream_surround_encoder_get_size ] ---
@@ -127,7 +130,8 @@ public class OpusMultistream {
     @NativeType("opus_int32")
     public static int opus_multistream_surround_encoder_get_size(int channels, int mapping_family) {
         long __functionAddress = Functions.multistream_surround_encoder_get_size;
-        return invokeI(channels, mapping_family, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokeI(channels, mapping_family, __functionAddress));
     }
 
     // --- [ opus_multistream_encoder_create ] ---
@@ -140,7 +144,8 @@ public class OpusMultistream {
      */
     public static long nopus_multistream_encoder_create(int Fs, int channels, int streams, int coupled_streams, long mapping, int application, long error) {
         long __functionAddress = Functions.multistream_encoder_create;
-        return invokePPP(Fs, channels, streams, coupled_streams, mapping, application, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPP(Fs, channels, streams, coupled_streams, mapping, application, error, __functionAddress));
     }
 
     /**
@@ -169,7 +174,8 @@ public class OpusMultistream {
 
     public static long nopus_multistream_surround_encoder_create(int Fs, int channels, int mapping_family, long streams, long coupled_streams, long mapping, int application, long error) {
         long __functionAddress = Functions.multistream_surround_encoder_create;
-        return invokePPPPP(Fs, channels, mapping_family, streams, coupled_streams, mapping, application, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPPPP(Fs, channels, mapping_family, streams, coupled_streams, mapping, application, error, __functionAddress));
     }
 
     @NativeType("OpusMSEncoder *")
@@ -195,7 +201,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPI(st, Fs, channels, streams, coupled_streams, mapping, application, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPI(st, Fs, channels, streams, coupled_streams, mapping, application, __functionAddress));
     }
 
     /**
@@ -228,7 +235,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPPI(st, Fs, channels, streams, coupled_streams, mapping, application, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePPPPI(st, Fs, channels, streams, coupled_streams, mapping, application, __functionAddress));
     }
 
     public static int opus_multistream_surround_encoder_init(@NativeType("OpusMSEncoder *") long st, @NativeType("opus_int32") int Fs, @NativeType("int *") IntBuffer streams, @NativeType("int *") IntBuffer coupled_streams, @NativeType("unsigned char const *") ByteBuffer mapping, int application) {
@@ -252,7 +260,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress));
     }
 
     /**
@@ -287,7 +296,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress));
     }
 
     /**
@@ -323,7 +333,9 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
+        long __start = FunctionProfiler.start();
         invokePV(st, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ opus_multistream_encoder_ctl ] ---
@@ -338,7 +350,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_multistream_decoder_get_size ] ---
@@ -355,7 +368,8 @@ public class OpusMultistream {
     @NativeType("opus_int32")
     public static int opus_multistream_decoder_get_size(int streams, int coupled_streams) {
         long __functionAddress = Functions.multistream_decoder_get_size;
-        return invokeI(streams, coupled_streams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokeI(streams, coupled_streams, __functionAddress));
     }
 
     // --- [ opus_multistream_decoder_create ] ---
@@ -367,7 +381,8 @@ public class OpusMultistream {
      */
     public static long nopus_multistream_decoder_create(int Fs, int channels, int streams, int coupled_streams, long mapping, long error) {
         long __functionAddress = Functions.multistream_decoder_create;
-        return invokePPP(Fs, channels, streams, coupled_streams, mapping, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPP(Fs, channels, streams, coupled_streams, mapping, error, __functionAddress));
     }
 
     /**
@@ -402,7 +417,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPI(st, Fs, channels, streams, coupled_streams, mapping, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePPI(st, Fs, channels, streams, coupled_streams, mapping, __functionAddress));
     }
 
     /**
@@ -438,7 +454,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress));
     }
 
     /**
@@ -477,7 +494,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress));
     }
 
     /**
@@ -516,7 +534,8 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_multistream_decoder_destroy ] ---
@@ -531,7 +550,9 @@ public class OpusMultistream {
         if (CHECKS) {
             check(st);
         }
+        long __start = FunctionProfiler.start();
         invokePV(st, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
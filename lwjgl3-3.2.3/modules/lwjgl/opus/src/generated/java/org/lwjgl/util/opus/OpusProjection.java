@@ -37,6 +37,8 @@ public class OpusProjection {
         OPUS_PROJECTION_GET_DEMIXING_MATRIX_SIZE_REQUEST = 6003,
         OPUS_PROJECTION_GET_DEMIXING_MATRIX_REQUEST      = 6005;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OpusProjection.class, "opus_projection_ambisonics_encoder_get_size,opus_projection_ambisonics_encoder_create,opus_projection_ambisonics_encoder_init,opus_projection_encode,opus_projection_encode_float,opus_projection_encoder_ctl,opus_projection_encoder_destroy,opus_projection_decoder_get_size,opus_projection_decoder_create,opus_projection_decoder_init,opus_projection_decode,opus_projection_decode_float,opus_projection_decoder_ctl,opus_projection_decoder_destroy");
+
     protected OpusProjection() {
         throw new UnsupportedOperationException();
     }
@@ -78,7 +80,8 @@ public class OpusProjection {
     @NativeType("opus_int32")
     public static int opus_projection_ambisonics_encoder_get_size(int channels, int mapping_family) {
         long __functionAddress = Functions.projection_ambisonics_encoder_get_size;
-        return invokeI(channels, mapping_family, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeI(channels, mapping_family, __functionAddress));
     }
 
     // --- [ opus_projection_ambisonics_encoder_create ] ---
@@ -86,7 +89,8 @@ public class OpusProjection {
     /** Unsafe version of: {@link #opus_projection_ambisonics_encoder_create projection_ambisonics_encoder_create} */
     public static long nopus_projection_ambisonics_encoder_create(int Fs, int channels, int mapping_family, long streams, long coupled_streams, int application, long error) {
         long __functionAddress = Functions.projection_ambisonics_encoder_create;
-        return invokePPPP(Fs, channels, mapping_family, streams, coupled_streams, application, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, invokePPPP(Fs, channels, mapping_family, streams, coupled_streams, application, error, __functionAddress));
     }
 
     /**
@@ -121,7 +125,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, Fs, channels, mapping_family, streams, coupled_streams, application, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokePPPI(st, Fs, channels, mapping_family, streams, coupled_streams, application, __functionAddress));
     }
 
     /**
@@ -164,7 +169,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress));
     }
 
     /**
@@ -199,7 +205,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, invokePPPI(st, pcm, frame_size, data, max_data_bytes, __functionAddress));
     }
 
     /**
@@ -235,7 +242,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_projection_encoder_destroy ] ---
@@ -250,7 +258,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_projection_decoder_get_size ] ---
@@ -268,7 +277,8 @@ public class OpusProjection {
     @NativeType("opus_int32")
     public static int opus_projection_decoder_get_size(int channels, int streams, int coupled_streams) {
         long __functionAddress = Functions.projection_decoder_get_size;
-        return invokeI(channels, streams, coupled_streams, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, invokeI(channels, streams, coupled_streams, __functionAddress));
     }
 
     // --- [ opus_projection_decoder_create ] ---
@@ -280,7 +290,8 @@ public class OpusProjection {
      */
     public static long nopus_projection_decoder_create(int Fs, int channels, int streams, int coupled_streams, long demixing_matrix, int demixing_matrix_size, long error) {
         long __functionAddress = Functions.projection_decoder_create;
-        return invokePPP(Fs, channels, streams, coupled_streams, demixing_matrix, demixing_matrix_size, error, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, invokePPP(Fs, channels, streams, coupled_streams, demixing_matrix, demixing_matrix_size, error, __functionAddress));
     }
 
     /**
@@ -316,7 +327,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePPI(st, Fs, channels, streams, coupled_streams, demixing_matrix, demixing_matrix_size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, invokePPI(st, Fs, channels, streams, coupled_streams, demixing_matrix, demixing_matrix_size, __functionAddress));
     }
 
     /**
@@ -353,7 +365,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress));
     }
 
     /**
@@ -392,7 +405,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, invokePPPI(st, data, len, pcm, frame_size, decode_fec, __functionAddress));
     }
 
     /**
@@ -431,7 +445,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, invokePI(st, __functionAddress));
     }
 
     // --- [ opus_projection_decoder_destroy ] ---
@@ -446,7 +461,8 @@ public class OpusProjection {
         if (CHECKS) {
             check(st);
         }
-        return invokePI(st, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, invokePI(st, __functionAddress));
     }
 
     /**
@@ -850,6 +850,8 @@ public class OVR {
         ovrDebugHudStereo_QuadWithCrosshair   = 2,
         ovrDebugHudStereo_CrosshairAtInfinity = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OVR.class, "ovr_Initialize,ovr_GetLastErrorInfo,ovr_GetVersionString,ovr_TraceMessage,ovr_IdentifyClient,ovr_GetHmdDesc,ovr_GetTrackerCount,ovr_GetTrackerDesc,ovr_Create,ovr_Destroy,ovr_GetSessionStatus,ovr_IsExtensionSupported,ovr_EnableExtension,ovr_SetTrackingOriginType,ovr_GetTrackingOriginType,ovr_RecenterTrackingOrigin,ovr_SpecifyTrackingOrigin,ovr_ClearShouldRecenterFlag,ovr_GetTrackingState,ovr_GetDevicePoses,ovr_GetTrackerPose,ovr_GetInputState,ovr_GetConnectedControllerTypes,ovr_GetTouchHapticsDesc,ovr_SetControllerVibration,ovr_SubmitControllerVibration,ovr_GetControllerVibrationState,ovr_TestBoundary,ovr_TestBoundaryPoint,ovr_SetBoundaryLookAndFeel,ovr_ResetBoundaryLookAndFeel,ovr_GetBoundaryGeometry,ovr_GetBoundaryDimensions,ovr_GetBoundaryVisible,ovr_RequestBoundaryVisible,ovr_GetExternalCameras,ovr_SetExternalCameraProperties,ovr_GetTextureSwapChainLength,ovr_GetTextureSwapChainCurrentIndex,ovr_GetTextureSwapChainDesc,ovr_CommitTextureSwapChain,ovr_DestroyTextureSwapChain,ovr_DestroyMirrorTexture,ovr_GetFovTextureSize,ovr_GetRenderDesc,ovr_GetFovStencil,ovr_WaitToBeginFrame,ovr_BeginFrame,ovr_EndFrame,ovr_SubmitFrame,ovr_GetPerfStats,ovr_ResetPerfStats,ovr_GetPredictedDisplayTime,ovr_GetBool,ovr_SetBool,ovr_GetInt,ovr_SetInt,ovr_GetFloat,ovr_SetFloat,ovr_GetFloatArray,ovr_SetFloatArray,ovr_GetString,ovr_SetString");
+
     static { LibOVR.initialize(); }
 
     protected OVR() {
@@ -897,7 +899,8 @@ public class OVR {
      */
     @NativeType("ovrResult")
     public static int ovr_Initialize(@Nullable @NativeType("ovrInitParams const *") OVRInitParams params) {
-        return novr_Initialize(memAddressSafe(params));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, novr_Initialize(memAddressSafe(params)));
     }
 
     // --- [ ovr_Shutdown ] ---
@@ -927,7 +930,9 @@ public class OVR {
      * @param errorInfo The last {@link OVRErrorInfo} for the current thread
      */
     public static void ovr_GetLastErrorInfo(@NativeType("ovrErrorInfo *") OVRErrorInfo errorInfo) {
+        long __start = FunctionProfiler.start();
         novr_GetLastErrorInfo(errorInfo.address());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ ovr_GetVersionString ] ---
@@ -949,7 +954,8 @@ public class OVR {
      */
     @NativeType("char const *")
     public static String ovr_GetVersionString() {
-        long __result = novr_GetVersionString();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, novr_GetVersionString());
         return memUTF8(__result);
     }
 
@@ -972,7 +978,8 @@ public class OVR {
         if (CHECKS) {
             checkNT1(message);
         }
-        return novr_TraceMessage(level, memAddress(message));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, novr_TraceMessage(level, memAddress(message)));
     }
 
     /**
@@ -990,7 +997,8 @@ public class OVR {
         try {
             stack.nUTF8(message, true);
             long messageEncoded = stack.getPointerAddress();
-            return novr_TraceMessage(level, messageEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, novr_TraceMessage(level, messageEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1033,7 +1041,8 @@ public class OVR {
         if (CHECKS) {
             checkNT1(identity);
         }
-        return novr_IdentifyClient(memAddress(identity));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, novr_IdentifyClient(memAddress(identity)));
     }
 
     /**
@@ -1069,7 +1078,8 @@ public class OVR {
         try {
             stack.nUTF8(identity, true);
             long identityEncoded = stack.getPointerAddress();
-            return novr_IdentifyClient(identityEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 4, __start, novr_IdentifyClient(identityEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1093,7 +1103,9 @@ public class OVR {
      */
     @NativeType("ovrHmdDesc")
     public static OVRHmdDesc ovr_GetHmdDesc(@NativeType("ovrSession") long session, @NativeType("ovrHmdDesc") OVRHmdDesc __result) {
+        long __start = FunctionProfiler.start();
         novr_GetHmdDesc(session, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
         return __result;
     }
 
@@ -1116,7 +1128,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetTrackerCount(session);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, novr_GetTrackerCount(session));
     }
 
     // --- [ ovr_GetTrackerDesc ] ---
@@ -1141,7 +1154,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_GetTrackerDesc(session, trackerDescIndex, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
         return __result;
     }
 
@@ -1168,7 +1183,8 @@ public class OVR {
         if (CHECKS) {
             check(pSession, 1);
         }
-        return novr_Create(memAddress(pSession), pLuid.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, novr_Create(memAddress(pSession), pLuid.address()));
     }
 
     // --- [ ovr_Destroy ] ---
@@ -1185,7 +1201,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_Destroy(session);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ ovr_GetSessionStatus ] ---
@@ -1204,7 +1222,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetSessionStatus(session, sessionStatus.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, novr_GetSessionStatus(session, sessionStatus.address()));
     }
 
     // --- [ ovr_IsExtensionSupported ] ---
@@ -1227,7 +1246,8 @@ public class OVR {
             check(session);
             check(outExtensionSupported, 1);
         }
-        return novr_IsExtensionSupported(session, extension, memAddress(outExtensionSupported));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, novr_IsExtensionSupported(session, extension, memAddress(outExtensionSupported)));
     }
 
     // --- [ ovr_EnableExtension ] ---
@@ -1249,7 +1269,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_EnableExtension(session, extension);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, novr_EnableExtension(session, extension));
     }
 
     // --- [ ovr_SetTrackingOriginType ] ---
@@ -1270,7 +1291,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_SetTrackingOriginType(session, origin);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, novr_SetTrackingOriginType(session, origin));
     }
 
     // --- [ ovr_GetTrackingOriginType ] ---
@@ -1288,7 +1310,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetTrackingOriginType(session);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, novr_GetTrackingOriginType(session));
     }
 
     // --- [ ovr_RecenterTrackingOrigin ] ---
@@ -1319,7 +1342,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_RecenterTrackingOrigin(session);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, novr_RecenterTrackingOrigin(session));
     }
 
     // --- [ ovr_SpecifyTrackingOrigin ] ---
@@ -1362,7 +1386,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_SpecifyTrackingOrigin(session, originPose.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, novr_SpecifyTrackingOrigin(session, originPose.address()));
     }
 
     // --- [ ovr_ClearShouldRecenterFlag ] ---
@@ -1382,7 +1407,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_ClearShouldRecenterFlag(session);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ ovr_GetTrackingState ] ---
@@ -1411,7 +1438,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_GetTrackingState(session, absTime, latencyMarker, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
         return __result;
     }
 
@@ -1443,7 +1472,8 @@ public class OVR {
             check(session);
             check(outDevicePoses, deviceTypes.remaining());
         }
-        return novr_GetDevicePoses(session, memAddress(deviceTypes), deviceTypes.remaining(), absTime, outDevicePoses.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, novr_GetDevicePoses(session, memAddress(deviceTypes), deviceTypes.remaining(), absTime, outDevicePoses.address()));
     }
 
     // --- [ ovr_GetTrackerPose ] ---
@@ -1464,7 +1494,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_GetTrackerPose(session, trackerPoseIndex, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
         return __result;
     }
 
@@ -1488,7 +1520,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetInputState(session, controllerType, inputState.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, novr_GetInputState(session, controllerType, inputState.address()));
     }
 
     // --- [ ovr_GetConnectedControllerTypes ] ---
@@ -1506,7 +1539,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetConnectedControllerTypes(session);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, novr_GetConnectedControllerTypes(session));
     }
 
     // --- [ ovr_GetTouchHapticsDesc ] ---
@@ -1526,7 +1560,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_GetTouchHapticsDesc(session, controllerType, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
         return __result;
     }
 
@@ -1559,7 +1595,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_SetControllerVibration(session, controllerType, frequency, amplitude);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, novr_SetControllerVibration(session, controllerType, frequency, amplitude));
     }
 
     // --- [ ovr_SubmitControllerVibration ] ---
@@ -1589,7 +1626,8 @@ public class OVR {
             check(session);
             OVRHapticsBuffer.validate(buffer.address());
         }
-        return novr_SubmitControllerVibration(session, controllerType, buffer.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, novr_SubmitControllerVibration(session, controllerType, buffer.address()));
     }
 
     // --- [ ovr_GetControllerVibrationState ] ---
@@ -1616,7 +1654,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetControllerVibrationState(session, controllerType, outState.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, novr_GetControllerVibrationState(session, controllerType, outState.address()));
     }
 
     // --- [ ovr_TestBoundary ] ---
@@ -1647,7 +1686,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_TestBoundary(session, deviceBitmask, boundaryType, outTestResult.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, novr_TestBoundary(session, deviceBitmask, boundaryType, outTestResult.address()));
     }
 
     // --- [ ovr_TestBoundaryPoint ] ---
@@ -1675,7 +1715,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_TestBoundaryPoint(session, point.address(), singleBoundaryType, outTestResult.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, novr_TestBoundaryPoint(session, point.address(), singleBoundaryType, outTestResult.address()));
     }
 
     // --- [ ovr_SetBoundaryLookAndFeel ] ---
@@ -1696,7 +1737,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_SetBoundaryLookAndFeel(session, lookAndFeel.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, novr_SetBoundaryLookAndFeel(session, lookAndFeel.address()));
     }
 
     // --- [ ovr_ResetBoundaryLookAndFeel ] ---
@@ -1716,7 +1758,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_ResetBoundaryLookAndFeel(session);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, novr_ResetBoundaryLookAndFeel(session));
     }
 
     // --- [ ovr_GetBoundaryGeometry ] ---
@@ -1745,7 +1788,8 @@ public class OVR {
             check(session);
             checkSafe(outFloorPointsCount, 1);
         }
-        return novr_GetBoundaryGeometry(session, boundaryType, memAddressSafe(outFloorPoints), memAddressSafe(outFloorPointsCount));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, novr_GetBoundaryGeometry(session, boundaryType, memAddressSafe(outFloorPoints), memAddressSafe(outFloorPointsCount)));
     }
 
     // --- [ ovr_GetBoundaryDimensions ] ---
@@ -1772,7 +1816,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetBoundaryDimensions(session, boundaryType, outDimensions.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, novr_GetBoundaryDimensions(session, boundaryType, outDimensions.address()));
     }
 
     // --- [ ovr_GetBoundaryVisible ] ---
@@ -1802,7 +1847,8 @@ public class OVR {
             check(session);
             check(outIsVisible, 1);
         }
-        return novr_GetBoundaryVisible(session, memAddress(outIsVisible));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, novr_GetBoundaryVisible(session, memAddress(outIsVisible)));
     }
 
     // --- [ ovr_RequestBoundaryVisible ] ---
@@ -1823,7 +1869,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_RequestBoundaryVisible(session, visible);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, novr_RequestBoundaryVisible(session, visible));
     }
 
     // --- [ ovr_GetExternalCameras ] ---
@@ -1853,7 +1900,8 @@ public class OVR {
             check(inoutCameraCount, 1);
             checkSafe(cameras, inoutCameraCount.get(inoutCameraCount.position()));
         }
-        return novr_GetExternalCameras(session, memAddressSafe(cameras), memAddress(inoutCameraCount));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, novr_GetExternalCameras(session, memAddressSafe(cameras), memAddress(inoutCameraCount)));
     }
 
     // --- [ ovr_SetExternalCameraProperties ] ---
@@ -1880,7 +1928,8 @@ public class OVR {
             check(session);
             checkNT1(name);
         }
-        return novr_SetExternalCameraProperties(session, memAddress(name), intrinsics.address(), extrinsics.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, novr_SetExternalCameraProperties(session, memAddress(name), intrinsics.address(), extrinsics.address()));
     }
 
     /**
@@ -1905,7 +1954,8 @@ public class OVR {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return novr_SetExternalCameraProperties(session, nameEncoded, intrinsics.address(), extrinsics.address());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 36, __start, novr_SetExternalCameraProperties(session, nameEncoded, intrinsics.address(), extrinsics.address()));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1930,7 +1980,8 @@ public class OVR {
             check(chain);
             check(out_Length, 1);
         }
-        return novr_GetTextureSwapChainLength(session, chain, memAddress(out_Length));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, novr_GetTextureSwapChainLength(session, chain, memAddress(out_Length)));
     }
 
     // --- [ ovr_GetTextureSwapChainCurrentIndex ] ---
@@ -1952,7 +2003,8 @@ public class OVR {
             check(chain);
             check(out_Index, 1);
         }
-        return novr_GetTextureSwapChainCurrentIndex(session, chain, memAddress(out_Index));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, novr_GetTextureSwapChainCurrentIndex(session, chain, memAddress(out_Index)));
     }
 
     // --- [ ovr_GetTextureSwapChainDesc ] ---
@@ -1973,7 +2025,8 @@ public class OVR {
             check(session);
             check(chain);
         }
-        return novr_GetTextureSwapChainDesc(session, chain, out_Desc.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, novr_GetTextureSwapChainDesc(session, chain, out_Desc.address()));
     }
 
     // --- [ ovr_CommitTextureSwapChain ] ---
@@ -1997,7 +2050,8 @@ public class OVR {
             check(session);
             check(chain);
         }
-        return novr_CommitTextureSwapChain(session, chain);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, novr_CommitTextureSwapChain(session, chain));
     }
 
     // --- [ ovr_DestroyTextureSwapChain ] ---
@@ -2015,7 +2069,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_DestroyTextureSwapChain(session, chain);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ ovr_DestroyMirrorTexture ] ---
@@ -2033,7 +2089,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_DestroyMirrorTexture(session, mirrorTexture);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ ovr_GetFovTextureSize ] ---
@@ -2066,7 +2124,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_GetFovTextureSize(session, eye, fov.address(), pixelsPerDisplayPixel, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
         return __result;
     }
 
@@ -2088,7 +2148,9 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
+        long __start = FunctionProfiler.start();
         novr_GetRenderDesc(session, eyeType, fov.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
         return __result;
     }
 
@@ -2129,7 +2191,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetFovStencil(session, fovStencilDesc.address(), meshBuffer.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, novr_GetFovStencil(session, fovStencilDesc.address(), meshBuffer.address()));
     }
 
     // --- [ ovr_WaitToBeginFrame ] ---
@@ -2162,7 +2225,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_WaitToBeginFrame(session, frameIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, novr_WaitToBeginFrame(session, frameIndex));
     }
 
     // --- [ ovr_BeginFrame ] ---
@@ -2192,7 +2256,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_BeginFrame(session, frameIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, novr_BeginFrame(session, frameIndex));
     }
 
     // --- [ ovr_EndFrame ] ---
@@ -2253,7 +2318,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_EndFrame(session, frameIndex, memAddressSafe(viewScaleDesc), memAddress(layerPtrList), layerPtrList.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, novr_EndFrame(session, frameIndex, memAddressSafe(viewScaleDesc), memAddress(layerPtrList), layerPtrList.remaining()));
     }
 
     // --- [ ovr_SubmitFrame ] ---
@@ -2320,7 +2386,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_SubmitFrame(session, frameIndex, memAddressSafe(viewScaleDesc), memAddress(layerPtrList), layerPtrList.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, novr_SubmitFrame(session, frameIndex, memAddressSafe(viewScaleDesc), memAddress(layerPtrList), layerPtrList.remaining()));
     }
 
     // --- [ ovr_GetPerfStats ] ---
@@ -2357,7 +2424,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetPerfStats(session, outStats.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, novr_GetPerfStats(session, outStats.address()));
     }
 
     // --- [ ovr_ResetPerfStats ] ---
@@ -2380,7 +2448,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_ResetPerfStats(session);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, novr_ResetPerfStats(session));
     }
 
     // --- [ ovr_GetPredictedDisplayTime ] ---
@@ -2411,7 +2480,8 @@ public class OVR {
         if (CHECKS) {
             check(session);
         }
-        return novr_GetPredictedDisplayTime(session, frameIndex);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, novr_GetPredictedDisplayTime(session, frameIndex));
     }
 
     // --- [ ovr_GetTimeInSeconds ] ---
@@ -2445,7 +2515,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_GetBool(session, memAddress(propertyName), defaultVal);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, novr_GetBool(session, memAddress(propertyName), defaultVal));
     }
 
     /**
@@ -2466,7 +2537,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_GetBool(session, propertyNameEncoded, defaultVal);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 53, __start, novr_GetBool(session, propertyNameEncoded, defaultVal));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2494,7 +2566,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_SetBool(session, memAddress(propertyName), value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, novr_SetBool(session, memAddress(propertyName), value));
     }
 
     /**
@@ -2517,7 +2590,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_SetBool(session, propertyNameEncoded, value);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 54, __start, novr_SetBool(session, propertyNameEncoded, value));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2542,7 +2616,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_GetInt(session, memAddress(propertyName), defaultVal);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, novr_GetInt(session, memAddress(propertyName), defaultVal));
     }
 
     /**
@@ -2562,7 +2637,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_GetInt(session, propertyNameEncoded, defaultVal);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 55, __start, novr_GetInt(session, propertyNameEncoded, defaultVal));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2590,7 +2666,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_SetInt(session, memAddress(propertyName), value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, novr_SetInt(session, memAddress(propertyName), value));
     }
 
     /**
@@ -2613,7 +2690,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_SetInt(session, propertyNameEncoded, value);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 56, __start, novr_SetInt(session, propertyNameEncoded, value));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2638,7 +2716,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_GetFloat(session, memAddress(propertyName), defaultVal);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, novr_GetFloat(session, memAddress(propertyName), defaultVal));
     }
 
     /**
@@ -2658,7 +2737,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_GetFloat(session, propertyNameEncoded, defaultVal);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 57, __start, novr_GetFloat(session, propertyNameEncoded, defaultVal));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2686,7 +2766,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_SetFloat(session, memAddress(propertyName), value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, novr_SetFloat(session, memAddress(propertyName), value));
     }
 
     /**
@@ -2709,7 +2790,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_SetFloat(session, propertyNameEncoded, value);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 58, __start, novr_SetFloat(session, propertyNameEncoded, value));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2739,7 +2821,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_GetFloatArray(session, memAddress(propertyName), memAddress(values), values.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, novr_GetFloatArray(session, memAddress(propertyName), memAddress(values), values.remaining()));
     }
 
     /**
@@ -2760,7 +2843,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_GetFloatArray(session, propertyNameEncoded, memAddress(values), values.remaining());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 59, __start, novr_GetFloatArray(session, propertyNameEncoded, memAddress(values), values.remaining()));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2790,7 +2874,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_SetFloatArray(session, memAddress(propertyName), memAddress(values), values.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, novr_SetFloatArray(session, memAddress(propertyName), memAddress(values), values.remaining()));
     }
 
     /**
@@ -2811,7 +2896,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_SetFloatArray(session, propertyNameEncoded, memAddress(values), values.remaining());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 60, __start, novr_SetFloatArray(session, propertyNameEncoded, memAddress(values), values.remaining()));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2842,7 +2928,8 @@ public class OVR {
             checkNT1(propertyName);
             checkNT1Safe(defaultVal);
         }
-        long __result = novr_GetString(session, memAddress(propertyName), memAddressSafe(defaultVal));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 61, __start, novr_GetString(session, memAddress(propertyName), memAddressSafe(defaultVal)));
         return memUTF8Safe(__result);
     }
 
@@ -2870,7 +2957,8 @@ public class OVR {
             long propertyNameEncoded = stack.getPointerAddress();
             stack.nUTF8Safe(defaultVal, true);
             long defaultValEncoded = defaultVal == null ? NULL : stack.getPointerAddress();
-            long __result = novr_GetString(session, propertyNameEncoded, defaultValEncoded);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 61, __start, novr_GetString(session, propertyNameEncoded, defaultValEncoded));
             return memUTF8Safe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -2900,7 +2988,8 @@ public class OVR {
             checkNT1(propertyName);
             checkNT1(value);
         }
-        return novr_SetString(hmddesc, memAddress(propertyName), memAddress(value));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, novr_SetString(hmddesc, memAddress(propertyName), memAddress(value)));
     }
 
     /**
@@ -2925,7 +3014,8 @@ public class OVR {
             long propertyNameEncoded = stack.getPointerAddress();
             stack.nASCII(value, true);
             long valueEncoded = stack.getPointerAddress();
-            return novr_SetString(hmddesc, propertyNameEncoded, valueEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 62, __start, novr_SetString(hmddesc, propertyNameEncoded, valueEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -2941,7 +3031,8 @@ public class OVR {
             check(session);
             check(outDevicePoses, deviceTypes.length);
         }
-        return novr_GetDevicePoses(session, deviceTypes, deviceTypes.length, absTime, outDevicePoses.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, novr_GetDevicePoses(session, deviceTypes, deviceTypes.length, absTime, outDevicePoses.address()));
     }
 
     /** Array version of: {@link #novr_GetBoundaryGeometry} */
@@ -2954,7 +3045,8 @@ public class OVR {
             check(session);
             checkSafe(outFloorPointsCount, 1);
         }
-        return novr_GetBoundaryGeometry(session, boundaryType, memAddressSafe(outFloorPoints), outFloorPointsCount);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, novr_GetBoundaryGeometry(session, boundaryType, memAddressSafe(outFloorPoints), outFloorPointsCount));
     }
 
     /** Array version of: {@link #novr_GetExternalCameras} */
@@ -2968,7 +3060,8 @@ public class OVR {
             check(inoutCameraCount, 1);
             checkSafe(cameras, inoutCameraCount[0]);
         }
-        return novr_GetExternalCameras(session, memAddressSafe(cameras), inoutCameraCount);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, novr_GetExternalCameras(session, memAddressSafe(cameras), inoutCameraCount));
     }
 
     /** Array version of: {@link #novr_GetTextureSwapChainLength} */
@@ -2982,7 +3075,8 @@ public class OVR {
             check(chain);
             check(out_Length, 1);
         }
-        return novr_GetTextureSwapChainLength(session, chain, out_Length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, novr_GetTextureSwapChainLength(session, chain, out_Length));
     }
 
     /** Array version of: {@link #novr_GetTextureSwapChainCurrentIndex} */
@@ -2996,7 +3090,8 @@ public class OVR {
             check(chain);
             check(out_Index, 1);
         }
-        return novr_GetTextureSwapChainCurrentIndex(session, chain, out_Index);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, novr_GetTextureSwapChainCurrentIndex(session, chain, out_Index));
     }
 
     /** Array version of: {@link #novr_GetFloatArray} */
@@ -3009,7 +3104,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_GetFloatArray(session, memAddress(propertyName), values, values.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, novr_GetFloatArray(session, memAddress(propertyName), values, values.length));
     }
 
     /** Array version of: {@link #ovr_GetFloatArray GetFloatArray} */
@@ -3022,7 +3118,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_GetFloatArray(session, propertyNameEncoded, values, values.length);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 59, __start, novr_GetFloatArray(session, propertyNameEncoded, values, values.length));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -3038,7 +3135,8 @@ public class OVR {
             check(session);
             checkNT1(propertyName);
         }
-        return novr_SetFloatArray(session, memAddress(propertyName), values, values.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, novr_SetFloatArray(session, memAddress(propertyName), values, values.length));
     }
 
     /** Array version of: {@link #ovr_SetFloatArray SetFloatArray} */
@@ -3051,7 +3149,8 @@ public class OVR {
         try {
             stack.nASCII(propertyName, true);
             long propertyNameEncoded = stack.getPointerAddress();
-            return novr_SetFloatArray(session, propertyNameEncoded, values, values.length);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 60, __start, novr_SetFloatArray(session, propertyNameEncoded, values, values.length));
         } finally {
             stack.setPointer(stackPointer);
         }
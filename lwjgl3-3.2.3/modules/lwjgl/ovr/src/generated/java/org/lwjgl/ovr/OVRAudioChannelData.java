@@ -191,6 +191,24 @@ public class OVRAudioChannelData extends Struct implements NativeResource {
         return wrap(OVRAudioChannelData.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRAudioChannelData} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRAudioChannelData malloc(MemoryArena arena) {
+        return wrap(OVRAudioChannelData.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRAudioChannelData} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRAudioChannelData calloc(MemoryArena arena) {
+        return wrap(OVRAudioChannelData.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRAudioChannelData.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -229,6 +247,26 @@ public class OVRAudioChannelData extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRAudioChannelData.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRAudioChannelData.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRAudioChannelData.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRAudioChannelData.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Samples() Samples}. */
@@ -284,6 +322,15 @@ public class OVRAudioChannelData extends Struct implements NativeResource {
         /** Returns the value of the {@code Frequency} field. */
         public int Frequency() { return OVRAudioChannelData.nFrequency(address()); }
 
+        /** Copies the {@code SamplesCount} field of the structs between the current position and limit to the specified array. */
+        public OVRAudioChannelData.Buffer getSamplesCount(int[] dst) { gather(OVRAudioChannelData.SAMPLESCOUNT, dst); return this; }
+        /** Copies the {@code SamplesCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRAudioChannelData.Buffer getSamplesCount(IntBuffer dst) { gather(OVRAudioChannelData.SAMPLESCOUNT, dst); return this; }
+        /** Copies the {@code Frequency} field of the structs between the current position and limit to the specified array. */
+        public OVRAudioChannelData.Buffer getFrequency(int[] dst) { gather(OVRAudioChannelData.FREQUENCY, dst); return this; }
+        /** Copies the {@code Frequency} field of the structs between the current position and limit to the specified buffer. */
+        public OVRAudioChannelData.Buffer getFrequency(IntBuffer dst) { gather(OVRAudioChannelData.FREQUENCY, dst); return this; }
+
     }
 
 }
\ No newline at end of file
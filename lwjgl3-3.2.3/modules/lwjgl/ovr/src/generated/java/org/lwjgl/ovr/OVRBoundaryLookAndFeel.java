@@ -192,6 +192,24 @@ public class OVRBoundaryLookAndFeel extends Struct implements NativeResource {
         return wrap(OVRBoundaryLookAndFeel.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRBoundaryLookAndFeel} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRBoundaryLookAndFeel malloc(MemoryArena arena) {
+        return wrap(OVRBoundaryLookAndFeel.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRBoundaryLookAndFeel} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRBoundaryLookAndFeel calloc(MemoryArena arena) {
+        return wrap(OVRBoundaryLookAndFeel.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRBoundaryLookAndFeel.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -230,6 +248,26 @@ public class OVRBoundaryLookAndFeel extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRBoundaryLookAndFeel.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRBoundaryLookAndFeel.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRBoundaryLookAndFeel.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRBoundaryLookAndFeel.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Color}. */
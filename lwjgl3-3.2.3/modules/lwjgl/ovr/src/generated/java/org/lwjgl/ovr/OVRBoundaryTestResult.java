@@ -198,6 +198,24 @@ public class OVRBoundaryTestResult extends Struct implements NativeResource {
         return wrap(OVRBoundaryTestResult.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRBoundaryTestResult} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRBoundaryTestResult malloc(MemoryArena arena) {
+        return wrap(OVRBoundaryTestResult.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRBoundaryTestResult} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRBoundaryTestResult calloc(MemoryArena arena) {
+        return wrap(OVRBoundaryTestResult.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRBoundaryTestResult.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -236,6 +254,26 @@ public class OVRBoundaryTestResult extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRBoundaryTestResult.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRBoundaryTestResult.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRBoundaryTestResult.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRBoundaryTestResult.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #IsTriggering}. */
@@ -297,6 +335,11 @@ public class OVRBoundaryTestResult extends Struct implements NativeResource {
         @NativeType("ovrVector3f")
         public OVRVector3f ClosestPointNormal() { return OVRBoundaryTestResult.nClosestPointNormal(address()); }
 
+        /** Copies the {@code ClosestDistance} field of the structs between the current position and limit to the specified array. */
+        public OVRBoundaryTestResult.Buffer getClosestDistance(float[] dst) { gather(OVRBoundaryTestResult.CLOSESTDISTANCE, dst); return this; }
+        /** Copies the {@code ClosestDistance} field of the structs between the current position and limit to the specified buffer. */
+        public OVRBoundaryTestResult.Buffer getClosestDistance(FloatBuffer dst) { gather(OVRBoundaryTestResult.CLOSESTDISTANCE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -269,6 +269,24 @@ public class OVRCameraExtrinsics extends Struct implements NativeResource {
         return wrap(OVRCameraExtrinsics.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRCameraExtrinsics} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRCameraExtrinsics malloc(MemoryArena arena) {
+        return wrap(OVRCameraExtrinsics.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRCameraExtrinsics} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRCameraExtrinsics calloc(MemoryArena arena) {
+        return wrap(OVRCameraExtrinsics.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRCameraExtrinsics.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class OVRCameraExtrinsics extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRCameraExtrinsics.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRCameraExtrinsics.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRCameraExtrinsics.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRCameraExtrinsics.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #LastChangedTimeSeconds}. */
@@ -412,6 +450,56 @@ public class OVRCameraExtrinsics extends Struct implements NativeResource {
         /** Sets the specified value to the {@code AdditionalLatencySeconds} field. */
         public OVRCameraExtrinsics.Buffer AdditionalLatencySeconds(double value) { OVRCameraExtrinsics.nAdditionalLatencySeconds(address(), value); return this; }
 
+        /** Copies the {@code LastChangedTimeSeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraExtrinsics.Buffer getLastChangedTimeSeconds(double[] dst) { gather(OVRCameraExtrinsics.LASTCHANGEDTIMESECONDS, dst); return this; }
+        /** Copies the {@code LastChangedTimeSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraExtrinsics.Buffer getLastChangedTimeSeconds(DoubleBuffer dst) { gather(OVRCameraExtrinsics.LASTCHANGEDTIMESECONDS, dst); return this; }
+        /** Copies the {@code CameraStatusFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraExtrinsics.Buffer getCameraStatusFlags(int[] dst) { gather(OVRCameraExtrinsics.CAMERASTATUSFLAGS, dst); return this; }
+        /** Copies the {@code CameraStatusFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraExtrinsics.Buffer getCameraStatusFlags(IntBuffer dst) { gather(OVRCameraExtrinsics.CAMERASTATUSFLAGS, dst); return this; }
+        /** Copies the {@code AttachedToDevice} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraExtrinsics.Buffer getAttachedToDevice(int[] dst) { gather(OVRCameraExtrinsics.ATTACHEDTODEVICE, dst); return this; }
+        /** Copies the {@code AttachedToDevice} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraExtrinsics.Buffer getAttachedToDevice(IntBuffer dst) { gather(OVRCameraExtrinsics.ATTACHEDTODEVICE, dst); return this; }
+        /** Copies the {@code LastExposureTimeSeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraExtrinsics.Buffer getLastExposureTimeSeconds(double[] dst) { gather(OVRCameraExtrinsics.LASTEXPOSURETIMESECONDS, dst); return this; }
+        /** Copies the {@code LastExposureTimeSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraExtrinsics.Buffer getLastExposureTimeSeconds(DoubleBuffer dst) { gather(OVRCameraExtrinsics.LASTEXPOSURETIMESECONDS, dst); return this; }
+        /** Copies the {@code ExposureLatencySeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraExtrinsics.Buffer getExposureLatencySeconds(double[] dst) { gather(OVRCameraExtrinsics.EXPOSURELATENCYSECONDS, dst); return this; }
+        /** Copies the {@code ExposureLatencySeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraExtrinsics.Buffer getExposureLatencySeconds(DoubleBuffer dst) { gather(OVRCameraExtrinsics.EXPOSURELATENCYSECONDS, dst); return this; }
+        /** Copies the {@code AdditionalLatencySeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraExtrinsics.Buffer getAdditionalLatencySeconds(double[] dst) { gather(OVRCameraExtrinsics.ADDITIONALLATENCYSECONDS, dst); return this; }
+        /** Copies the {@code AdditionalLatencySeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraExtrinsics.Buffer getAdditionalLatencySeconds(DoubleBuffer dst) { gather(OVRCameraExtrinsics.ADDITIONALLATENCYSECONDS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code LastChangedTimeSeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putLastChangedTimeSeconds(double[] src) { scatter(OVRCameraExtrinsics.LASTCHANGEDTIMESECONDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code LastChangedTimeSeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putLastChangedTimeSeconds(DoubleBuffer src) { scatter(OVRCameraExtrinsics.LASTCHANGEDTIMESECONDS, src); return this; }
+        /** Copies the values in the specified array to the {@code CameraStatusFlags} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putCameraStatusFlags(int[] src) { scatter(OVRCameraExtrinsics.CAMERASTATUSFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CameraStatusFlags} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putCameraStatusFlags(IntBuffer src) { scatter(OVRCameraExtrinsics.CAMERASTATUSFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code AttachedToDevice} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putAttachedToDevice(int[] src) { scatter(OVRCameraExtrinsics.ATTACHEDTODEVICE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AttachedToDevice} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putAttachedToDevice(IntBuffer src) { scatter(OVRCameraExtrinsics.ATTACHEDTODEVICE, src); return this; }
+        /** Copies the values in the specified array to the {@code LastExposureTimeSeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putLastExposureTimeSeconds(double[] src) { scatter(OVRCameraExtrinsics.LASTEXPOSURETIMESECONDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code LastExposureTimeSeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putLastExposureTimeSeconds(DoubleBuffer src) { scatter(OVRCameraExtrinsics.LASTEXPOSURETIMESECONDS, src); return this; }
+        /** Copies the values in the specified array to the {@code ExposureLatencySeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putExposureLatencySeconds(double[] src) { scatter(OVRCameraExtrinsics.EXPOSURELATENCYSECONDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ExposureLatencySeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putExposureLatencySeconds(DoubleBuffer src) { scatter(OVRCameraExtrinsics.EXPOSURELATENCYSECONDS, src); return this; }
+        /** Copies the values in the specified array to the {@code AdditionalLatencySeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putAdditionalLatencySeconds(double[] src) { scatter(OVRCameraExtrinsics.ADDITIONALLATENCYSECONDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AdditionalLatencySeconds} field of the structs between the current position and limit. */
+        public OVRCameraExtrinsics.Buffer putAdditionalLatencySeconds(DoubleBuffer src) { scatter(OVRCameraExtrinsics.ADDITIONALLATENCYSECONDS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -282,6 +282,24 @@ public class OVRCameraIntrinsics extends Struct implements NativeResource {
         return wrap(OVRCameraIntrinsics.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRCameraIntrinsics} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRCameraIntrinsics malloc(MemoryArena arena) {
+        return wrap(OVRCameraIntrinsics.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRCameraIntrinsics} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRCameraIntrinsics calloc(MemoryArena arena) {
+        return wrap(OVRCameraIntrinsics.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRCameraIntrinsics.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -320,6 +338,26 @@ public class OVRCameraIntrinsics extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRCameraIntrinsics.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRCameraIntrinsics.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRCameraIntrinsics.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRCameraIntrinsics.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #LastChangedTime}. */
@@ -437,6 +475,48 @@ public class OVRCameraIntrinsics extends Struct implements NativeResource {
         /** Sets the specified value to the {@code ExposureDurationSeconds} field. */
         public OVRCameraIntrinsics.Buffer ExposureDurationSeconds(double value) { OVRCameraIntrinsics.nExposureDurationSeconds(address(), value); return this; }
 
+        /** Copies the {@code LastChangedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraIntrinsics.Buffer getLastChangedTime(double[] dst) { gather(OVRCameraIntrinsics.LASTCHANGEDTIME, dst); return this; }
+        /** Copies the {@code LastChangedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraIntrinsics.Buffer getLastChangedTime(DoubleBuffer dst) { gather(OVRCameraIntrinsics.LASTCHANGEDTIME, dst); return this; }
+        /** Copies the {@code VirtualNearPlaneDistanceMeters} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraIntrinsics.Buffer getVirtualNearPlaneDistanceMeters(float[] dst) { gather(OVRCameraIntrinsics.VIRTUALNEARPLANEDISTANCEMETERS, dst); return this; }
+        /** Copies the {@code VirtualNearPlaneDistanceMeters} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraIntrinsics.Buffer getVirtualNearPlaneDistanceMeters(FloatBuffer dst) { gather(OVRCameraIntrinsics.VIRTUALNEARPLANEDISTANCEMETERS, dst); return this; }
+        /** Copies the {@code VirtualFarPlaneDistanceMeters} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraIntrinsics.Buffer getVirtualFarPlaneDistanceMeters(float[] dst) { gather(OVRCameraIntrinsics.VIRTUALFARPLANEDISTANCEMETERS, dst); return this; }
+        /** Copies the {@code VirtualFarPlaneDistanceMeters} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraIntrinsics.Buffer getVirtualFarPlaneDistanceMeters(FloatBuffer dst) { gather(OVRCameraIntrinsics.VIRTUALFARPLANEDISTANCEMETERS, dst); return this; }
+        /** Copies the {@code ExposurePeriodSeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraIntrinsics.Buffer getExposurePeriodSeconds(double[] dst) { gather(OVRCameraIntrinsics.EXPOSUREPERIODSECONDS, dst); return this; }
+        /** Copies the {@code ExposurePeriodSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraIntrinsics.Buffer getExposurePeriodSeconds(DoubleBuffer dst) { gather(OVRCameraIntrinsics.EXPOSUREPERIODSECONDS, dst); return this; }
+        /** Copies the {@code ExposureDurationSeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRCameraIntrinsics.Buffer getExposureDurationSeconds(double[] dst) { gather(OVRCameraIntrinsics.EXPOSUREDURATIONSECONDS, dst); return this; }
+        /** Copies the {@code ExposureDurationSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRCameraIntrinsics.Buffer getExposureDurationSeconds(DoubleBuffer dst) { gather(OVRCameraIntrinsics.EXPOSUREDURATIONSECONDS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code LastChangedTime} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putLastChangedTime(double[] src) { scatter(OVRCameraIntrinsics.LASTCHANGEDTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code LastChangedTime} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putLastChangedTime(DoubleBuffer src) { scatter(OVRCameraIntrinsics.LASTCHANGEDTIME, src); return this; }
+        /** Copies the values in the specified array to the {@code VirtualNearPlaneDistanceMeters} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putVirtualNearPlaneDistanceMeters(float[] src) { scatter(OVRCameraIntrinsics.VIRTUALNEARPLANEDISTANCEMETERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code VirtualNearPlaneDistanceMeters} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putVirtualNearPlaneDistanceMeters(FloatBuffer src) { scatter(OVRCameraIntrinsics.VIRTUALNEARPLANEDISTANCEMETERS, src); return this; }
+        /** Copies the values in the specified array to the {@code VirtualFarPlaneDistanceMeters} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putVirtualFarPlaneDistanceMeters(float[] src) { scatter(OVRCameraIntrinsics.VIRTUALFARPLANEDISTANCEMETERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code VirtualFarPlaneDistanceMeters} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putVirtualFarPlaneDistanceMeters(FloatBuffer src) { scatter(OVRCameraIntrinsics.VIRTUALFARPLANEDISTANCEMETERS, src); return this; }
+        /** Copies the values in the specified array to the {@code ExposurePeriodSeconds} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putExposurePeriodSeconds(double[] src) { scatter(OVRCameraIntrinsics.EXPOSUREPERIODSECONDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ExposurePeriodSeconds} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putExposurePeriodSeconds(DoubleBuffer src) { scatter(OVRCameraIntrinsics.EXPOSUREPERIODSECONDS, src); return this; }
+        /** Copies the values in the specified array to the {@code ExposureDurationSeconds} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putExposureDurationSeconds(double[] src) { scatter(OVRCameraIntrinsics.EXPOSUREDURATIONSECONDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ExposureDurationSeconds} field of the structs between the current position and limit. */
+        public OVRCameraIntrinsics.Buffer putExposureDurationSeconds(DoubleBuffer src) { scatter(OVRCameraIntrinsics.EXPOSUREDURATIONSECONDS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -231,6 +231,24 @@ public class OVRColorf extends Struct implements NativeResource {
         return wrap(OVRColorf.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRColorf} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRColorf malloc(MemoryArena arena) {
+        return wrap(OVRColorf.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRColorf} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRColorf calloc(MemoryArena arena) {
+        return wrap(OVRColorf.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRColorf.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class OVRColorf extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRColorf.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRColorf.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRColorf.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRColorf.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #r}. */
@@ -345,6 +383,40 @@ public class OVRColorf extends Struct implements NativeResource {
         /** Sets the specified value to the {@code a} field. */
         public OVRColorf.Buffer a(float value) { OVRColorf.na(address(), value); return this; }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public OVRColorf.Buffer getR(float[] dst) { gather(OVRColorf.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public OVRColorf.Buffer getR(FloatBuffer dst) { gather(OVRColorf.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public OVRColorf.Buffer getG(float[] dst) { gather(OVRColorf.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public OVRColorf.Buffer getG(FloatBuffer dst) { gather(OVRColorf.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public OVRColorf.Buffer getB(float[] dst) { gather(OVRColorf.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public OVRColorf.Buffer getB(FloatBuffer dst) { gather(OVRColorf.B, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public OVRColorf.Buffer getA(float[] dst) { gather(OVRColorf.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public OVRColorf.Buffer getA(FloatBuffer dst) { gather(OVRColorf.A, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code r} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putR(float[] src) { scatter(OVRColorf.R, src); return this; }
+        /** Copies the values in the specified buffer to the {@code r} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putR(FloatBuffer src) { scatter(OVRColorf.R, src); return this; }
+        /** Copies the values in the specified array to the {@code g} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putG(float[] src) { scatter(OVRColorf.G, src); return this; }
+        /** Copies the values in the specified buffer to the {@code g} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putG(FloatBuffer src) { scatter(OVRColorf.G, src); return this; }
+        /** Copies the values in the specified array to the {@code b} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putB(float[] src) { scatter(OVRColorf.B, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putB(FloatBuffer src) { scatter(OVRColorf.B, src); return this; }
+        /** Copies the values in the specified array to the {@code a} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putA(float[] src) { scatter(OVRColorf.A, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a} field of the structs between the current position and limit. */
+        public OVRColorf.Buffer putA(FloatBuffer src) { scatter(OVRColorf.A, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -186,6 +186,24 @@ public class OVRErrorInfo extends Struct implements NativeResource {
         return wrap(OVRErrorInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRErrorInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRErrorInfo malloc(MemoryArena arena) {
+        return wrap(OVRErrorInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRErrorInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRErrorInfo calloc(MemoryArena arena) {
+        return wrap(OVRErrorInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRErrorInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -224,6 +242,26 @@ public class OVRErrorInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRErrorInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRErrorInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRErrorInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRErrorInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Result}. */
@@ -281,6 +319,11 @@ public class OVRErrorInfo extends Struct implements NativeResource {
         @NativeType("char[512]")
         public String ErrorStringString() { return OVRErrorInfo.nErrorStringString(address()); }
 
+        /** Copies the {@code Result} field of the structs between the current position and limit to the specified array. */
+        public OVRErrorInfo.Buffer getResult(int[] dst) { gather(OVRErrorInfo.RESULT, dst); return this; }
+        /** Copies the {@code Result} field of the structs between the current position and limit to the specified buffer. */
+        public OVRErrorInfo.Buffer getResult(IntBuffer dst) { gather(OVRErrorInfo.RESULT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
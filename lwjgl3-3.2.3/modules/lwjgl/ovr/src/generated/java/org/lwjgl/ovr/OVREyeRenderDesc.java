@@ -208,6 +208,24 @@ public class OVREyeRenderDesc extends Struct implements NativeResource {
         return wrap(OVREyeRenderDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVREyeRenderDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVREyeRenderDesc malloc(MemoryArena arena) {
+        return wrap(OVREyeRenderDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVREyeRenderDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVREyeRenderDesc calloc(MemoryArena arena) {
+        return wrap(OVREyeRenderDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVREyeRenderDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -246,6 +264,26 @@ public class OVREyeRenderDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVREyeRenderDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVREyeRenderDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVREyeRenderDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVREyeRenderDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Eye}. */
@@ -313,6 +351,11 @@ public class OVREyeRenderDesc extends Struct implements NativeResource {
         @NativeType("ovrPosef")
         public OVRPosef HmdToEyePose() { return OVREyeRenderDesc.nHmdToEyePose(address()); }
 
+        /** Copies the {@code Eye} field of the structs between the current position and limit to the specified array. */
+        public OVREyeRenderDesc.Buffer getEye(int[] dst) { gather(OVREyeRenderDesc.EYE, dst); return this; }
+        /** Copies the {@code Eye} field of the structs between the current position and limit to the specified buffer. */
+        public OVREyeRenderDesc.Buffer getEye(IntBuffer dst) { gather(OVREyeRenderDesc.EYE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
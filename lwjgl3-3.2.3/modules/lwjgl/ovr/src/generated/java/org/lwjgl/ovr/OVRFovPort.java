@@ -234,6 +234,24 @@ public class OVRFovPort extends Struct implements NativeResource {
         return wrap(OVRFovPort.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRFovPort} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRFovPort malloc(MemoryArena arena) {
+        return wrap(OVRFovPort.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRFovPort} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRFovPort calloc(MemoryArena arena) {
+        return wrap(OVRFovPort.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRFovPort.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class OVRFovPort extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRFovPort.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRFovPort.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRFovPort.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRFovPort.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #UpTan}. */
@@ -348,6 +386,40 @@ public class OVRFovPort extends Struct implements NativeResource {
         /** Sets the specified value to the {@code RightTan} field. */
         public OVRFovPort.Buffer RightTan(float value) { OVRFovPort.nRightTan(address(), value); return this; }
 
+        /** Copies the {@code UpTan} field of the structs between the current position and limit to the specified array. */
+        public OVRFovPort.Buffer getUpTan(float[] dst) { gather(OVRFovPort.UPTAN, dst); return this; }
+        /** Copies the {@code UpTan} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovPort.Buffer getUpTan(FloatBuffer dst) { gather(OVRFovPort.UPTAN, dst); return this; }
+        /** Copies the {@code DownTan} field of the structs between the current position and limit to the specified array. */
+        public OVRFovPort.Buffer getDownTan(float[] dst) { gather(OVRFovPort.DOWNTAN, dst); return this; }
+        /** Copies the {@code DownTan} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovPort.Buffer getDownTan(FloatBuffer dst) { gather(OVRFovPort.DOWNTAN, dst); return this; }
+        /** Copies the {@code LeftTan} field of the structs between the current position and limit to the specified array. */
+        public OVRFovPort.Buffer getLeftTan(float[] dst) { gather(OVRFovPort.LEFTTAN, dst); return this; }
+        /** Copies the {@code LeftTan} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovPort.Buffer getLeftTan(FloatBuffer dst) { gather(OVRFovPort.LEFTTAN, dst); return this; }
+        /** Copies the {@code RightTan} field of the structs between the current position and limit to the specified array. */
+        public OVRFovPort.Buffer getRightTan(float[] dst) { gather(OVRFovPort.RIGHTTAN, dst); return this; }
+        /** Copies the {@code RightTan} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovPort.Buffer getRightTan(FloatBuffer dst) { gather(OVRFovPort.RIGHTTAN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code UpTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putUpTan(float[] src) { scatter(OVRFovPort.UPTAN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code UpTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putUpTan(FloatBuffer src) { scatter(OVRFovPort.UPTAN, src); return this; }
+        /** Copies the values in the specified array to the {@code DownTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putDownTan(float[] src) { scatter(OVRFovPort.DOWNTAN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code DownTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putDownTan(FloatBuffer src) { scatter(OVRFovPort.DOWNTAN, src); return this; }
+        /** Copies the values in the specified array to the {@code LeftTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putLeftTan(float[] src) { scatter(OVRFovPort.LEFTTAN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code LeftTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putLeftTan(FloatBuffer src) { scatter(OVRFovPort.LEFTTAN, src); return this; }
+        /** Copies the values in the specified array to the {@code RightTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putRightTan(float[] src) { scatter(OVRFovPort.RIGHTTAN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code RightTan} field of the structs between the current position and limit. */
+        public OVRFovPort.Buffer putRightTan(FloatBuffer src) { scatter(OVRFovPort.RIGHTTAN, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -251,6 +251,24 @@ public class OVRFovStencilDesc extends Struct implements NativeResource {
         return wrap(OVRFovStencilDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRFovStencilDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRFovStencilDesc malloc(MemoryArena arena) {
+        return wrap(OVRFovStencilDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRFovStencilDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRFovStencilDesc calloc(MemoryArena arena) {
+        return wrap(OVRFovStencilDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRFovStencilDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -289,6 +307,26 @@ public class OVRFovStencilDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRFovStencilDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRFovStencilDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRFovStencilDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRFovStencilDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #StencilType}. */
@@ -382,6 +420,32 @@ public class OVRFovStencilDesc extends Struct implements NativeResource {
         /** Passes the {@code HmdToEyeRotation} field to the specified {@link java.util.function.Consumer Consumer}. */
         public OVRFovStencilDesc.Buffer HmdToEyeRotation(java.util.function.Consumer<OVRQuatf> consumer) { consumer.accept(HmdToEyeRotation()); return this; }
 
+        /** Copies the {@code StencilType} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilDesc.Buffer getStencilType(int[] dst) { gather(OVRFovStencilDesc.STENCILTYPE, dst); return this; }
+        /** Copies the {@code StencilType} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilDesc.Buffer getStencilType(IntBuffer dst) { gather(OVRFovStencilDesc.STENCILTYPE, dst); return this; }
+        /** Copies the {@code StencilFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilDesc.Buffer getStencilFlags(int[] dst) { gather(OVRFovStencilDesc.STENCILFLAGS, dst); return this; }
+        /** Copies the {@code StencilFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilDesc.Buffer getStencilFlags(IntBuffer dst) { gather(OVRFovStencilDesc.STENCILFLAGS, dst); return this; }
+        /** Copies the {@code Eye} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilDesc.Buffer getEye(int[] dst) { gather(OVRFovStencilDesc.EYE, dst); return this; }
+        /** Copies the {@code Eye} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilDesc.Buffer getEye(IntBuffer dst) { gather(OVRFovStencilDesc.EYE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code StencilType} field of the structs between the current position and limit. */
+        public OVRFovStencilDesc.Buffer putStencilType(int[] src) { scatter(OVRFovStencilDesc.STENCILTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code StencilType} field of the structs between the current position and limit. */
+        public OVRFovStencilDesc.Buffer putStencilType(IntBuffer src) { scatter(OVRFovStencilDesc.STENCILTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code StencilFlags} field of the structs between the current position and limit. */
+        public OVRFovStencilDesc.Buffer putStencilFlags(int[] src) { scatter(OVRFovStencilDesc.STENCILFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code StencilFlags} field of the structs between the current position and limit. */
+        public OVRFovStencilDesc.Buffer putStencilFlags(IntBuffer src) { scatter(OVRFovStencilDesc.STENCILFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code Eye} field of the structs between the current position and limit. */
+        public OVRFovStencilDesc.Buffer putEye(int[] src) { scatter(OVRFovStencilDesc.EYE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Eye} field of the structs between the current position and limit. */
+        public OVRFovStencilDesc.Buffer putEye(IntBuffer src) { scatter(OVRFovStencilDesc.EYE, src); return this; }
+
     }
 
 }
\ No newline at end of file
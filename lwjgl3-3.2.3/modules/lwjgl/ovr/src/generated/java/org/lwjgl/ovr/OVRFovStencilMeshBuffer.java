@@ -257,6 +257,24 @@ public class OVRFovStencilMeshBuffer extends Struct implements NativeResource {
         return wrap(OVRFovStencilMeshBuffer.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRFovStencilMeshBuffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRFovStencilMeshBuffer malloc(MemoryArena arena) {
+        return wrap(OVRFovStencilMeshBuffer.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRFovStencilMeshBuffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRFovStencilMeshBuffer calloc(MemoryArena arena) {
+        return wrap(OVRFovStencilMeshBuffer.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRFovStencilMeshBuffer.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -295,6 +313,26 @@ public class OVRFovStencilMeshBuffer extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRFovStencilMeshBuffer.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRFovStencilMeshBuffer.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRFovStencilMeshBuffer.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRFovStencilMeshBuffer.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #AllocVertexCount}. */
@@ -391,6 +429,40 @@ public class OVRFovStencilMeshBuffer extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ShortBuffer} to the {@code IndexBuffer} field. */
         public OVRFovStencilMeshBuffer.Buffer IndexBuffer(@Nullable @NativeType("uint16_t *") ShortBuffer value) { OVRFovStencilMeshBuffer.nIndexBuffer(address(), value); return this; }
 
+        /** Copies the {@code AllocVertexCount} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilMeshBuffer.Buffer getAllocVertexCount(int[] dst) { gather(OVRFovStencilMeshBuffer.ALLOCVERTEXCOUNT, dst); return this; }
+        /** Copies the {@code AllocVertexCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilMeshBuffer.Buffer getAllocVertexCount(IntBuffer dst) { gather(OVRFovStencilMeshBuffer.ALLOCVERTEXCOUNT, dst); return this; }
+        /** Copies the {@code UsedVertexCount} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilMeshBuffer.Buffer getUsedVertexCount(int[] dst) { gather(OVRFovStencilMeshBuffer.USEDVERTEXCOUNT, dst); return this; }
+        /** Copies the {@code UsedVertexCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilMeshBuffer.Buffer getUsedVertexCount(IntBuffer dst) { gather(OVRFovStencilMeshBuffer.USEDVERTEXCOUNT, dst); return this; }
+        /** Copies the {@code AllocIndexCount} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilMeshBuffer.Buffer getAllocIndexCount(int[] dst) { gather(OVRFovStencilMeshBuffer.ALLOCINDEXCOUNT, dst); return this; }
+        /** Copies the {@code AllocIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilMeshBuffer.Buffer getAllocIndexCount(IntBuffer dst) { gather(OVRFovStencilMeshBuffer.ALLOCINDEXCOUNT, dst); return this; }
+        /** Copies the {@code UsedIndexCount} field of the structs between the current position and limit to the specified array. */
+        public OVRFovStencilMeshBuffer.Buffer getUsedIndexCount(int[] dst) { gather(OVRFovStencilMeshBuffer.USEDINDEXCOUNT, dst); return this; }
+        /** Copies the {@code UsedIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRFovStencilMeshBuffer.Buffer getUsedIndexCount(IntBuffer dst) { gather(OVRFovStencilMeshBuffer.USEDINDEXCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code AllocVertexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putAllocVertexCount(int[] src) { scatter(OVRFovStencilMeshBuffer.ALLOCVERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AllocVertexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putAllocVertexCount(IntBuffer src) { scatter(OVRFovStencilMeshBuffer.ALLOCVERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code UsedVertexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putUsedVertexCount(int[] src) { scatter(OVRFovStencilMeshBuffer.USEDVERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code UsedVertexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putUsedVertexCount(IntBuffer src) { scatter(OVRFovStencilMeshBuffer.USEDVERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code AllocIndexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putAllocIndexCount(int[] src) { scatter(OVRFovStencilMeshBuffer.ALLOCINDEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AllocIndexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putAllocIndexCount(IntBuffer src) { scatter(OVRFovStencilMeshBuffer.ALLOCINDEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code UsedIndexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putUsedIndexCount(int[] src) { scatter(OVRFovStencilMeshBuffer.USEDINDEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code UsedIndexCount} field of the structs between the current position and limit. */
+        public OVRFovStencilMeshBuffer.Buffer putUsedIndexCount(IntBuffer src) { scatter(OVRFovStencilMeshBuffer.USEDINDEXCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
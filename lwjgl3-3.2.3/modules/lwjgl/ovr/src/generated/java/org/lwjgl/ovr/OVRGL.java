@@ -21,6 +21,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class OVRGL {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OVRGL.class, "ovr_CreateTextureSwapChainGL,ovr_GetTextureSwapChainBufferGL,ovr_CreateMirrorTextureWithOptionsGL,ovr_CreateMirrorTextureGL,ovr_GetMirrorTextureBufferGL");
+
     static { LibOVR.initialize(); }
 
     protected OVRGL() {
@@ -55,7 +57,8 @@ public class OVRGL {
             check(session);
             check(out_TextureSwapChain, 1);
         }
-        return novr_CreateTextureSwapChainGL(session, desc.address(), memAddress(out_TextureSwapChain));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, novr_CreateTextureSwapChainGL(session, desc.address(), memAddress(out_TextureSwapChain)));
     }
 
     // --- [ ovr_GetTextureSwapChainBufferGL ] ---
@@ -81,7 +84,8 @@ public class OVRGL {
             check(chain);
             check(out_TexId, 1);
         }
-        return novr_GetTextureSwapChainBufferGL(session, chain, index, memAddress(out_TexId));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, novr_GetTextureSwapChainBufferGL(session, chain, index, memAddress(out_TexId)));
     }
 
     // --- [ ovr_CreateMirrorTextureWithOptionsGL ] ---
@@ -116,7 +120,8 @@ public class OVRGL {
             check(session);
             check(out_MirrorTexture, 1);
         }
-        return novr_CreateMirrorTextureWithOptionsGL(session, desc.address(), memAddress(out_MirrorTexture));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, novr_CreateMirrorTextureWithOptionsGL(session, desc.address(), memAddress(out_MirrorTexture)));
     }
 
     // --- [ ovr_CreateMirrorTextureGL ] ---
@@ -143,7 +148,8 @@ public class OVRGL {
             check(session);
             check(out_MirrorTexture, 1);
         }
-        return novr_CreateMirrorTextureGL(session, desc.address(), memAddress(out_MirrorTexture));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, novr_CreateMirrorTextureGL(session, desc.address(), memAddress(out_MirrorTexture)));
     }
 
     // --- [ ovr_GetMirrorTextureBufferGL ] ---
@@ -167,7 +173,8 @@ public class OVRGL {
             check(mirrorTexture);
             check(out_TexId, 1);
         }
-        return novr_GetMirrorTextureBufferGL(session, mirrorTexture, memAddress(out_TexId));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, novr_GetMirrorTextureBufferGL(session, mirrorTexture, memAddress(out_TexId)));
     }
 
     /** Array version of: {@link #novr_GetTextureSwapChainBufferGL} */
@@ -181,7 +188,8 @@ public class OVRGL {
             check(chain);
             check(out_TexId, 1);
         }
-        return novr_GetTextureSwapChainBufferGL(session, chain, index, out_TexId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, novr_GetTextureSwapChainBufferGL(session, chain, index, out_TexId));
     }
 
     /** Array version of: {@link #novr_GetMirrorTextureBufferGL} */
@@ -195,7 +203,8 @@ public class OVRGL {
             check(mirrorTexture);
             check(out_TexId, 1);
         }
-        return novr_GetMirrorTextureBufferGL(session, mirrorTexture, out_TexId);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, novr_GetMirrorTextureBufferGL(session, mirrorTexture, out_TexId));
     }
 
 }
\ No newline at end of file
@@ -227,6 +227,24 @@ public class OVRHapticsBuffer extends Struct implements NativeResource {
         return wrap(OVRHapticsBuffer.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRHapticsBuffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRHapticsBuffer malloc(MemoryArena arena) {
+        return wrap(OVRHapticsBuffer.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRHapticsBuffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRHapticsBuffer calloc(MemoryArena arena) {
+        return wrap(OVRHapticsBuffer.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRHapticsBuffer.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -265,6 +283,26 @@ public class OVRHapticsBuffer extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRHapticsBuffer.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRHapticsBuffer.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRHapticsBuffer.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRHapticsBuffer.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Samples(int) Samples}. */
@@ -360,6 +398,24 @@ public class OVRHapticsBuffer extends Struct implements NativeResource {
         /** Sets the specified value to the {@code SubmitMode} field. */
         public OVRHapticsBuffer.Buffer SubmitMode(@NativeType("ovrHapticsBufferSubmitMode") int value) { OVRHapticsBuffer.nSubmitMode(address(), value); return this; }
 
+        /** Copies the {@code SamplesCount} field of the structs between the current position and limit to the specified array. */
+        public OVRHapticsBuffer.Buffer getSamplesCount(int[] dst) { gather(OVRHapticsBuffer.SAMPLESCOUNT, dst); return this; }
+        /** Copies the {@code SamplesCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRHapticsBuffer.Buffer getSamplesCount(IntBuffer dst) { gather(OVRHapticsBuffer.SAMPLESCOUNT, dst); return this; }
+        /** Copies the {@code SubmitMode} field of the structs between the current position and limit to the specified array. */
+        public OVRHapticsBuffer.Buffer getSubmitMode(int[] dst) { gather(OVRHapticsBuffer.SUBMITMODE, dst); return this; }
+        /** Copies the {@code SubmitMode} field of the structs between the current position and limit to the specified buffer. */
+        public OVRHapticsBuffer.Buffer getSubmitMode(IntBuffer dst) { gather(OVRHapticsBuffer.SUBMITMODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code SamplesCount} field of the structs between the current position and limit. */
+        public OVRHapticsBuffer.Buffer putSamplesCount(int[] src) { scatter(OVRHapticsBuffer.SAMPLESCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SamplesCount} field of the structs between the current position and limit. */
+        public OVRHapticsBuffer.Buffer putSamplesCount(IntBuffer src) { scatter(OVRHapticsBuffer.SAMPLESCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code SubmitMode} field of the structs between the current position and limit. */
+        public OVRHapticsBuffer.Buffer putSubmitMode(int[] src) { scatter(OVRHapticsBuffer.SUBMITMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SubmitMode} field of the structs between the current position and limit. */
+        public OVRHapticsBuffer.Buffer putSubmitMode(IntBuffer src) { scatter(OVRHapticsBuffer.SUBMITMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
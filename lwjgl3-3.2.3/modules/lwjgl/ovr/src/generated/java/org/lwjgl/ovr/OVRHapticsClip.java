@@ -186,6 +186,24 @@ public class OVRHapticsClip extends Struct implements NativeResource {
         return wrap(OVRHapticsClip.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRHapticsClip} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRHapticsClip malloc(MemoryArena arena) {
+        return wrap(OVRHapticsClip.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRHapticsClip} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRHapticsClip calloc(MemoryArena arena) {
+        return wrap(OVRHapticsClip.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRHapticsClip.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -224,6 +242,26 @@ public class OVRHapticsClip extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRHapticsClip.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRHapticsClip.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRHapticsClip.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRHapticsClip.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Samples(int) Samples}. */
@@ -279,6 +317,11 @@ public class OVRHapticsClip extends Struct implements NativeResource {
         /** Returns the value of the {@code SamplesCount} field. */
         public int SamplesCount() { return OVRHapticsClip.nSamplesCount(address()); }
 
+        /** Copies the {@code SamplesCount} field of the structs between the current position and limit to the specified array. */
+        public OVRHapticsClip.Buffer getSamplesCount(int[] dst) { gather(OVRHapticsClip.SAMPLESCOUNT, dst); return this; }
+        /** Copies the {@code SamplesCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRHapticsClip.Buffer getSamplesCount(IntBuffer dst) { gather(OVRHapticsClip.SAMPLESCOUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -181,6 +181,24 @@ public class OVRHapticsPlaybackState extends Struct implements NativeResource {
         return wrap(OVRHapticsPlaybackState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRHapticsPlaybackState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRHapticsPlaybackState malloc(MemoryArena arena) {
+        return wrap(OVRHapticsPlaybackState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRHapticsPlaybackState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRHapticsPlaybackState calloc(MemoryArena arena) {
+        return wrap(OVRHapticsPlaybackState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRHapticsPlaybackState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -219,6 +237,26 @@ public class OVRHapticsPlaybackState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRHapticsPlaybackState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRHapticsPlaybackState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRHapticsPlaybackState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRHapticsPlaybackState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #RemainingQueueSpace}. */
@@ -269,6 +307,15 @@ public class OVRHapticsPlaybackState extends Struct implements NativeResource {
         /** Returns the value of the {@code SamplesQueued} field. */
         public int SamplesQueued() { return OVRHapticsPlaybackState.nSamplesQueued(address()); }
 
+        /** Copies the {@code RemainingQueueSpace} field of the structs between the current position and limit to the specified array. */
+        public OVRHapticsPlaybackState.Buffer getRemainingQueueSpace(int[] dst) { gather(OVRHapticsPlaybackState.REMAININGQUEUESPACE, dst); return this; }
+        /** Copies the {@code RemainingQueueSpace} field of the structs between the current position and limit to the specified buffer. */
+        public OVRHapticsPlaybackState.Buffer getRemainingQueueSpace(IntBuffer dst) { gather(OVRHapticsPlaybackState.REMAININGQUEUESPACE, dst); return this; }
+        /** Copies the {@code SamplesQueued} field of the structs between the current position and limit to the specified array. */
+        public OVRHapticsPlaybackState.Buffer getSamplesQueued(int[] dst) { gather(OVRHapticsPlaybackState.SAMPLESQUEUED, dst); return this; }
+        /** Copies the {@code SamplesQueued} field of the structs between the current position and limit to the specified buffer. */
+        public OVRHapticsPlaybackState.Buffer getSamplesQueued(IntBuffer dst) { gather(OVRHapticsPlaybackState.SAMPLESQUEUED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -211,6 +211,24 @@ public class OVRInitParams extends Struct implements NativeResource {
         return wrap(OVRInitParams.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRInitParams} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRInitParams malloc(MemoryArena arena) {
+        return wrap(OVRInitParams.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRInitParams} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRInitParams calloc(MemoryArena arena) {
+        return wrap(OVRInitParams.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Flags}. */
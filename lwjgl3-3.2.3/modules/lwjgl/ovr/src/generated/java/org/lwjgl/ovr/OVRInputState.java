@@ -295,6 +295,24 @@ public class OVRInputState extends Struct implements NativeResource {
         return wrap(OVRInputState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRInputState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRInputState malloc(MemoryArena arena) {
+        return wrap(OVRInputState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRInputState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRInputState calloc(MemoryArena arena) {
+        return wrap(OVRInputState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRInputState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -333,6 +351,26 @@ public class OVRInputState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRInputState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRInputState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRInputState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRInputState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #TimeInSeconds}. */
@@ -496,6 +534,23 @@ public class OVRInputState extends Struct implements NativeResource {
         @NativeType("ovrVector2f")
         public OVRVector2f ThumbstickRaw(int index) { return OVRInputState.nThumbstickRaw(address(), index); }
 
+        /** Copies the {@code TimeInSeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRInputState.Buffer getTimeInSeconds(double[] dst) { gather(OVRInputState.TIMEINSECONDS, dst); return this; }
+        /** Copies the {@code TimeInSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRInputState.Buffer getTimeInSeconds(DoubleBuffer dst) { gather(OVRInputState.TIMEINSECONDS, dst); return this; }
+        /** Copies the {@code Buttons} field of the structs between the current position and limit to the specified array. */
+        public OVRInputState.Buffer getButtons(int[] dst) { gather(OVRInputState.BUTTONS, dst); return this; }
+        /** Copies the {@code Buttons} field of the structs between the current position and limit to the specified buffer. */
+        public OVRInputState.Buffer getButtons(IntBuffer dst) { gather(OVRInputState.BUTTONS, dst); return this; }
+        /** Copies the {@code Touches} field of the structs between the current position and limit to the specified array. */
+        public OVRInputState.Buffer getTouches(int[] dst) { gather(OVRInputState.TOUCHES, dst); return this; }
+        /** Copies the {@code Touches} field of the structs between the current position and limit to the specified buffer. */
+        public OVRInputState.Buffer getTouches(IntBuffer dst) { gather(OVRInputState.TOUCHES, dst); return this; }
+        /** Copies the {@code ControllerType} field of the structs between the current position and limit to the specified array. */
+        public OVRInputState.Buffer getControllerType(int[] dst) { gather(OVRInputState.CONTROLLERTYPE, dst); return this; }
+        /** Copies the {@code ControllerType} field of the structs between the current position and limit to the specified buffer. */
+        public OVRInputState.Buffer getControllerType(IntBuffer dst) { gather(OVRInputState.CONTROLLERTYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
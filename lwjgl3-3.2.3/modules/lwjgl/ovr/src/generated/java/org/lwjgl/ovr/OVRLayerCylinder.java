@@ -309,6 +309,24 @@ public class OVRLayerCylinder extends Struct implements NativeResource {
         return wrap(OVRLayerCylinder.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRLayerCylinder} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerCylinder malloc(MemoryArena arena) {
+        return wrap(OVRLayerCylinder.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRLayerCylinder} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerCylinder calloc(MemoryArena arena) {
+        return wrap(OVRLayerCylinder.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRLayerCylinder.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -347,6 +365,26 @@ public class OVRLayerCylinder extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRLayerCylinder.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerCylinder.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRLayerCylinder.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerCylinder.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Header}. */
@@ -478,6 +516,32 @@ public class OVRLayerCylinder extends Struct implements NativeResource {
         /** Sets the specified value to the {@code CylinderAspectRatio} field. */
         public OVRLayerCylinder.Buffer CylinderAspectRatio(float value) { OVRLayerCylinder.nCylinderAspectRatio(address(), value); return this; }
 
+        /** Copies the {@code CylinderRadius} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerCylinder.Buffer getCylinderRadius(float[] dst) { gather(OVRLayerCylinder.CYLINDERRADIUS, dst); return this; }
+        /** Copies the {@code CylinderRadius} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerCylinder.Buffer getCylinderRadius(FloatBuffer dst) { gather(OVRLayerCylinder.CYLINDERRADIUS, dst); return this; }
+        /** Copies the {@code CylinderAngle} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerCylinder.Buffer getCylinderAngle(float[] dst) { gather(OVRLayerCylinder.CYLINDERANGLE, dst); return this; }
+        /** Copies the {@code CylinderAngle} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerCylinder.Buffer getCylinderAngle(FloatBuffer dst) { gather(OVRLayerCylinder.CYLINDERANGLE, dst); return this; }
+        /** Copies the {@code CylinderAspectRatio} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerCylinder.Buffer getCylinderAspectRatio(float[] dst) { gather(OVRLayerCylinder.CYLINDERASPECTRATIO, dst); return this; }
+        /** Copies the {@code CylinderAspectRatio} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerCylinder.Buffer getCylinderAspectRatio(FloatBuffer dst) { gather(OVRLayerCylinder.CYLINDERASPECTRATIO, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code CylinderRadius} field of the structs between the current position and limit. */
+        public OVRLayerCylinder.Buffer putCylinderRadius(float[] src) { scatter(OVRLayerCylinder.CYLINDERRADIUS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CylinderRadius} field of the structs between the current position and limit. */
+        public OVRLayerCylinder.Buffer putCylinderRadius(FloatBuffer src) { scatter(OVRLayerCylinder.CYLINDERRADIUS, src); return this; }
+        /** Copies the values in the specified array to the {@code CylinderAngle} field of the structs between the current position and limit. */
+        public OVRLayerCylinder.Buffer putCylinderAngle(float[] src) { scatter(OVRLayerCylinder.CYLINDERANGLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CylinderAngle} field of the structs between the current position and limit. */
+        public OVRLayerCylinder.Buffer putCylinderAngle(FloatBuffer src) { scatter(OVRLayerCylinder.CYLINDERANGLE, src); return this; }
+        /** Copies the values in the specified array to the {@code CylinderAspectRatio} field of the structs between the current position and limit. */
+        public OVRLayerCylinder.Buffer putCylinderAspectRatio(float[] src) { scatter(OVRLayerCylinder.CYLINDERASPECTRATIO, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CylinderAspectRatio} field of the structs between the current position and limit. */
+        public OVRLayerCylinder.Buffer putCylinderAspectRatio(FloatBuffer src) { scatter(OVRLayerCylinder.CYLINDERASPECTRATIO, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -301,6 +301,24 @@ public class OVRLayerEyeFov extends Struct implements NativeResource {
         return wrap(OVRLayerEyeFov.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRLayerEyeFov} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeFov malloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeFov.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRLayerEyeFov} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeFov calloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeFov.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRLayerEyeFov.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -339,6 +357,26 @@ public class OVRLayerEyeFov extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRLayerEyeFov.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeFov.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRLayerEyeFov.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeFov.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Header}. */
@@ -535,6 +573,16 @@ public class OVRLayerEyeFov extends Struct implements NativeResource {
         /** Sets the specified value to the {@code SensorSampleTime} field. */
         public OVRLayerEyeFov.Buffer SensorSampleTime(double value) { OVRLayerEyeFov.nSensorSampleTime(address(), value); return this; }
 
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerEyeFov.Buffer getSensorSampleTime(double[] dst) { gather(OVRLayerEyeFov.SENSORSAMPLETIME, dst); return this; }
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerEyeFov.Buffer getSensorSampleTime(DoubleBuffer dst) { gather(OVRLayerEyeFov.SENSORSAMPLETIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeFov.Buffer putSensorSampleTime(double[] src) { scatter(OVRLayerEyeFov.SENSORSAMPLETIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeFov.Buffer putSensorSampleTime(DoubleBuffer src) { scatter(OVRLayerEyeFov.SENSORSAMPLETIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
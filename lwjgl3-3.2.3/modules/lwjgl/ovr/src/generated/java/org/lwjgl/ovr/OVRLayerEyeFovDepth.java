@@ -342,6 +342,24 @@ public class OVRLayerEyeFovDepth extends Struct implements NativeResource {
         return wrap(OVRLayerEyeFovDepth.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRLayerEyeFovDepth} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeFovDepth malloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeFovDepth.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRLayerEyeFovDepth} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeFovDepth calloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeFovDepth.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRLayerEyeFovDepth.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -380,6 +398,26 @@ public class OVRLayerEyeFovDepth extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRLayerEyeFovDepth.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeFovDepth.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRLayerEyeFovDepth.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeFovDepth.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Header}. */
@@ -611,6 +649,16 @@ public class OVRLayerEyeFovDepth extends Struct implements NativeResource {
         /** Copies the specified {@link OVRTimewarpProjectionDesc} to the {@code ProjectionDesc} field. */
         public OVRLayerEyeFovDepth.Buffer ProjectionDesc(@NativeType("ovrTimewarpProjectionDesc") OVRTimewarpProjectionDesc value) { OVRLayerEyeFovDepth.nProjectionDesc(address(), value); return this; }
 
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerEyeFovDepth.Buffer getSensorSampleTime(double[] dst) { gather(OVRLayerEyeFovDepth.SENSORSAMPLETIME, dst); return this; }
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerEyeFovDepth.Buffer getSensorSampleTime(DoubleBuffer dst) { gather(OVRLayerEyeFovDepth.SENSORSAMPLETIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeFovDepth.Buffer putSensorSampleTime(double[] src) { scatter(OVRLayerEyeFovDepth.SENSORSAMPLETIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeFovDepth.Buffer putSensorSampleTime(DoubleBuffer src) { scatter(OVRLayerEyeFovDepth.SENSORSAMPLETIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
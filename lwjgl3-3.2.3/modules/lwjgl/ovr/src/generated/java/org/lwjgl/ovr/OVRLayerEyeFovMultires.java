@@ -337,6 +337,24 @@ public class OVRLayerEyeFovMultires extends Struct implements NativeResource {
         return wrap(OVRLayerEyeFovMultires.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRLayerEyeFovMultires} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeFovMultires malloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeFovMultires.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRLayerEyeFovMultires} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeFovMultires calloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeFovMultires.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRLayerEyeFovMultires.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -375,6 +393,26 @@ public class OVRLayerEyeFovMultires extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRLayerEyeFovMultires.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeFovMultires.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRLayerEyeFovMultires.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeFovMultires.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Header}. */
@@ -591,6 +629,24 @@ public class OVRLayerEyeFovMultires extends Struct implements NativeResource {
         /** Passes the {@code TextureLayoutDesc} field to the specified {@link java.util.function.Consumer Consumer}. */
         public OVRLayerEyeFovMultires.Buffer TextureLayoutDesc(java.util.function.Consumer<OVRTextureLayoutDescUnion> consumer) { consumer.accept(TextureLayoutDesc()); return this; }
 
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerEyeFovMultires.Buffer getSensorSampleTime(double[] dst) { gather(OVRLayerEyeFovMultires.SENSORSAMPLETIME, dst); return this; }
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerEyeFovMultires.Buffer getSensorSampleTime(DoubleBuffer dst) { gather(OVRLayerEyeFovMultires.SENSORSAMPLETIME, dst); return this; }
+        /** Copies the {@code TextureLayout} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerEyeFovMultires.Buffer getTextureLayout(int[] dst) { gather(OVRLayerEyeFovMultires.TEXTURELAYOUT, dst); return this; }
+        /** Copies the {@code TextureLayout} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerEyeFovMultires.Buffer getTextureLayout(IntBuffer dst) { gather(OVRLayerEyeFovMultires.TEXTURELAYOUT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeFovMultires.Buffer putSensorSampleTime(double[] src) { scatter(OVRLayerEyeFovMultires.SENSORSAMPLETIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeFovMultires.Buffer putSensorSampleTime(DoubleBuffer src) { scatter(OVRLayerEyeFovMultires.SENSORSAMPLETIME, src); return this; }
+        /** Copies the values in the specified array to the {@code TextureLayout} field of the structs between the current position and limit. */
+        public OVRLayerEyeFovMultires.Buffer putTextureLayout(int[] src) { scatter(OVRLayerEyeFovMultires.TEXTURELAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code TextureLayout} field of the structs between the current position and limit. */
+        public OVRLayerEyeFovMultires.Buffer putTextureLayout(IntBuffer src) { scatter(OVRLayerEyeFovMultires.TEXTURELAYOUT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -320,6 +320,24 @@ public class OVRLayerEyeMatrix extends Struct implements NativeResource {
         return wrap(OVRLayerEyeMatrix.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRLayerEyeMatrix} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeMatrix malloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeMatrix.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRLayerEyeMatrix} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerEyeMatrix calloc(MemoryArena arena) {
+        return wrap(OVRLayerEyeMatrix.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRLayerEyeMatrix.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -358,6 +376,26 @@ public class OVRLayerEyeMatrix extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRLayerEyeMatrix.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeMatrix.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRLayerEyeMatrix.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerEyeMatrix.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Header}. */
@@ -554,6 +592,16 @@ public class OVRLayerEyeMatrix extends Struct implements NativeResource {
         /** Sets the specified value to the {@code SensorSampleTime} field. */
         public OVRLayerEyeMatrix.Buffer SensorSampleTime(double value) { OVRLayerEyeMatrix.nSensorSampleTime(address(), value); return this; }
 
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerEyeMatrix.Buffer getSensorSampleTime(double[] dst) { gather(OVRLayerEyeMatrix.SENSORSAMPLETIME, dst); return this; }
+        /** Copies the {@code SensorSampleTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerEyeMatrix.Buffer getSensorSampleTime(DoubleBuffer dst) { gather(OVRLayerEyeMatrix.SENSORSAMPLETIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeMatrix.Buffer putSensorSampleTime(double[] src) { scatter(OVRLayerEyeMatrix.SENSORSAMPLETIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SensorSampleTime} field of the structs between the current position and limit. */
+        public OVRLayerEyeMatrix.Buffer putSensorSampleTime(DoubleBuffer src) { scatter(OVRLayerEyeMatrix.SENSORSAMPLETIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -217,6 +217,24 @@ public class OVRLayerHeader extends Struct implements NativeResource {
         return wrap(OVRLayerHeader.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRLayerHeader} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerHeader malloc(MemoryArena arena) {
+        return wrap(OVRLayerHeader.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRLayerHeader} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRLayerHeader calloc(MemoryArena arena) {
+        return wrap(OVRLayerHeader.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRLayerHeader.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -255,6 +273,26 @@ public class OVRLayerHeader extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRLayerHeader.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerHeader.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRLayerHeader.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRLayerHeader.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Type}. */
@@ -317,6 +355,24 @@ public class OVRLayerHeader extends Struct implements NativeResource {
         /** Sets the specified value to the {@code Flags} field. */
         public OVRLayerHeader.Buffer Flags(@NativeType("unsigned int") int value) { OVRLayerHeader.nFlags(address(), value); return this; }
 
+        /** Copies the {@code Type} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerHeader.Buffer getType(int[] dst) { gather(OVRLayerHeader.TYPE, dst); return this; }
+        /** Copies the {@code Type} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerHeader.Buffer getType(IntBuffer dst) { gather(OVRLayerHeader.TYPE, dst); return this; }
+        /** Copies the {@code Flags} field of the structs between the current position and limit to the specified array. */
+        public OVRLayerHeader.Buffer getFlags(int[] dst) { gather(OVRLayerHeader.FLAGS, dst); return this; }
+        /** Copies the {@code Flags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRLayerHeader.Buffer getFlags(IntBuffer dst) { gather(OVRLayerHeader.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code Type} field of the structs between the current position and limit. */
+        public OVRLayerHeader.Buffer putType(int[] src) { scatter(OVRLayerHeader.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Type} field of the structs between the current position and limit. */
+        public OVRLayerHeader.Buffer putType(IntBuffer src) { scatter(OVRLayerHeader.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code Flags} field of the structs between the current position and limit. */
+        public OVRLayerHeader.Buffer putFlags(int[] src) { scatter(OVRLayerHeader.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Flags} field of the structs between the current position and limit. */
+        public OVRLayerHeader.Buffer putFlags(IntBuffer src) { scatter(OVRLayerHeader.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
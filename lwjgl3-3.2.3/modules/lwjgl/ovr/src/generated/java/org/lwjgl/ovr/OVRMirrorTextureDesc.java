@@ -231,6 +231,24 @@ public class OVRMirrorTextureDesc extends Struct implements NativeResource {
         return wrap(OVRMirrorTextureDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRMirrorTextureDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRMirrorTextureDesc malloc(MemoryArena arena) {
+        return wrap(OVRMirrorTextureDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRMirrorTextureDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRMirrorTextureDesc calloc(MemoryArena arena) {
+        return wrap(OVRMirrorTextureDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRMirrorTextureDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class OVRMirrorTextureDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRMirrorTextureDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRMirrorTextureDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRMirrorTextureDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRMirrorTextureDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Format}. */
@@ -347,6 +385,40 @@ public class OVRMirrorTextureDesc extends Struct implements NativeResource {
         /** Sets the specified value to the {@code MiscFlags} field. */
         public OVRMirrorTextureDesc.Buffer MiscFlags(@NativeType("unsigned int") int value) { OVRMirrorTextureDesc.nMiscFlags(address(), value); return this; }
 
+        /** Copies the {@code Format} field of the structs between the current position and limit to the specified array. */
+        public OVRMirrorTextureDesc.Buffer getFormat(int[] dst) { gather(OVRMirrorTextureDesc.FORMAT, dst); return this; }
+        /** Copies the {@code Format} field of the structs between the current position and limit to the specified buffer. */
+        public OVRMirrorTextureDesc.Buffer getFormat(IntBuffer dst) { gather(OVRMirrorTextureDesc.FORMAT, dst); return this; }
+        /** Copies the {@code Width} field of the structs between the current position and limit to the specified array. */
+        public OVRMirrorTextureDesc.Buffer getWidth(int[] dst) { gather(OVRMirrorTextureDesc.WIDTH, dst); return this; }
+        /** Copies the {@code Width} field of the structs between the current position and limit to the specified buffer. */
+        public OVRMirrorTextureDesc.Buffer getWidth(IntBuffer dst) { gather(OVRMirrorTextureDesc.WIDTH, dst); return this; }
+        /** Copies the {@code Height} field of the structs between the current position and limit to the specified array. */
+        public OVRMirrorTextureDesc.Buffer getHeight(int[] dst) { gather(OVRMirrorTextureDesc.HEIGHT, dst); return this; }
+        /** Copies the {@code Height} field of the structs between the current position and limit to the specified buffer. */
+        public OVRMirrorTextureDesc.Buffer getHeight(IntBuffer dst) { gather(OVRMirrorTextureDesc.HEIGHT, dst); return this; }
+        /** Copies the {@code MiscFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRMirrorTextureDesc.Buffer getMiscFlags(int[] dst) { gather(OVRMirrorTextureDesc.MISCFLAGS, dst); return this; }
+        /** Copies the {@code MiscFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRMirrorTextureDesc.Buffer getMiscFlags(IntBuffer dst) { gather(OVRMirrorTextureDesc.MISCFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code Format} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putFormat(int[] src) { scatter(OVRMirrorTextureDesc.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Format} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putFormat(IntBuffer src) { scatter(OVRMirrorTextureDesc.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code Width} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putWidth(int[] src) { scatter(OVRMirrorTextureDesc.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Width} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putWidth(IntBuffer src) { scatter(OVRMirrorTextureDesc.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code Height} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putHeight(int[] src) { scatter(OVRMirrorTextureDesc.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Height} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putHeight(IntBuffer src) { scatter(OVRMirrorTextureDesc.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code MiscFlags} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putMiscFlags(int[] src) { scatter(OVRMirrorTextureDesc.MISCFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code MiscFlags} field of the structs between the current position and limit. */
+        public OVRMirrorTextureDesc.Buffer putMiscFlags(IntBuffer src) { scatter(OVRMirrorTextureDesc.MISCFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -242,6 +242,24 @@ public class OVRPerfStats extends Struct implements NativeResource {
         return wrap(OVRPerfStats.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRPerfStats} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRPerfStats malloc(MemoryArena arena) {
+        return wrap(OVRPerfStats.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRPerfStats} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRPerfStats calloc(MemoryArena arena) {
+        return wrap(OVRPerfStats.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRPerfStats.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -280,6 +298,26 @@ public class OVRPerfStats extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRPerfStats.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRPerfStats.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRPerfStats.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRPerfStats.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #FrameStats}. */
@@ -357,6 +395,19 @@ public class OVRPerfStats extends Struct implements NativeResource {
         @NativeType("ovrProcessId")
         public int VisibleProcessId() { return OVRPerfStats.nVisibleProcessId(address()); }
 
+        /** Copies the {@code FrameStatsCount} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStats.Buffer getFrameStatsCount(int[] dst) { gather(OVRPerfStats.FRAMESTATSCOUNT, dst); return this; }
+        /** Copies the {@code FrameStatsCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStats.Buffer getFrameStatsCount(IntBuffer dst) { gather(OVRPerfStats.FRAMESTATSCOUNT, dst); return this; }
+        /** Copies the {@code AdaptiveGpuPerformanceScale} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStats.Buffer getAdaptiveGpuPerformanceScale(float[] dst) { gather(OVRPerfStats.ADAPTIVEGPUPERFORMANCESCALE, dst); return this; }
+        /** Copies the {@code AdaptiveGpuPerformanceScale} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStats.Buffer getAdaptiveGpuPerformanceScale(FloatBuffer dst) { gather(OVRPerfStats.ADAPTIVEGPUPERFORMANCESCALE, dst); return this; }
+        /** Copies the {@code VisibleProcessId} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStats.Buffer getVisibleProcessId(int[] dst) { gather(OVRPerfStats.VISIBLEPROCESSID, dst); return this; }
+        /** Copies the {@code VisibleProcessId} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStats.Buffer getVisibleProcessId(IntBuffer dst) { gather(OVRPerfStats.VISIBLEPROCESSID, dst); return this; }
+
     }
 
 }
\ No newline at end of file
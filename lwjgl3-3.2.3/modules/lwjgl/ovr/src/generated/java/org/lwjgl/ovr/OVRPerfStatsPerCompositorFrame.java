@@ -377,6 +377,75 @@ public class OVRPerfStatsPerCompositorFrame extends Struct {
         /** Returns the value of the {@code AswFailedFrameCount} field. */
         public int AswFailedFrameCount() { return OVRPerfStatsPerCompositorFrame.nAswFailedFrameCount(address()); }
 
+        /** Copies the {@code HmdVsyncIndex} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getHmdVsyncIndex(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.HMDVSYNCINDEX, dst); return this; }
+        /** Copies the {@code HmdVsyncIndex} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getHmdVsyncIndex(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.HMDVSYNCINDEX, dst); return this; }
+        /** Copies the {@code AppFrameIndex} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppFrameIndex(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.APPFRAMEINDEX, dst); return this; }
+        /** Copies the {@code AppFrameIndex} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppFrameIndex(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.APPFRAMEINDEX, dst); return this; }
+        /** Copies the {@code AppDroppedFrameCount} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppDroppedFrameCount(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.APPDROPPEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code AppDroppedFrameCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppDroppedFrameCount(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.APPDROPPEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code AppMotionToPhotonLatency} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppMotionToPhotonLatency(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.APPMOTIONTOPHOTONLATENCY, dst); return this; }
+        /** Copies the {@code AppMotionToPhotonLatency} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppMotionToPhotonLatency(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.APPMOTIONTOPHOTONLATENCY, dst); return this; }
+        /** Copies the {@code AppQueueAheadTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppQueueAheadTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.APPQUEUEAHEADTIME, dst); return this; }
+        /** Copies the {@code AppQueueAheadTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppQueueAheadTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.APPQUEUEAHEADTIME, dst); return this; }
+        /** Copies the {@code AppCpuElapsedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppCpuElapsedTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.APPCPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code AppCpuElapsedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppCpuElapsedTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.APPCPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code AppGpuElapsedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppGpuElapsedTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.APPGPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code AppGpuElapsedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAppGpuElapsedTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.APPGPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorFrameIndex} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorFrameIndex(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORFRAMEINDEX, dst); return this; }
+        /** Copies the {@code CompositorFrameIndex} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorFrameIndex(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORFRAMEINDEX, dst); return this; }
+        /** Copies the {@code CompositorDroppedFrameCount} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorDroppedFrameCount(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORDROPPEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code CompositorDroppedFrameCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorDroppedFrameCount(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORDROPPEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code CompositorLatency} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorLatency(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORLATENCY, dst); return this; }
+        /** Copies the {@code CompositorLatency} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorLatency(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORLATENCY, dst); return this; }
+        /** Copies the {@code CompositorCpuElapsedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorCpuElapsedTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORCPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorCpuElapsedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorCpuElapsedTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORCPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorGpuElapsedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorGpuElapsedTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORGPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorGpuElapsedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorGpuElapsedTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORGPUELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorCpuStartToGpuEndElapsedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorCpuStartToGpuEndElapsedTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORCPUSTARTTOGPUENDELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorCpuStartToGpuEndElapsedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorCpuStartToGpuEndElapsedTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORCPUSTARTTOGPUENDELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorGpuEndToVsyncElapsedTime} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorGpuEndToVsyncElapsedTime(float[] dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORGPUENDTOVSYNCELAPSEDTIME, dst); return this; }
+        /** Copies the {@code CompositorGpuEndToVsyncElapsedTime} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getCompositorGpuEndToVsyncElapsedTime(FloatBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.COMPOSITORGPUENDTOVSYNCELAPSEDTIME, dst); return this; }
+        /** Copies the {@code AswActivatedToggleCount} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAswActivatedToggleCount(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.ASWACTIVATEDTOGGLECOUNT, dst); return this; }
+        /** Copies the {@code AswActivatedToggleCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAswActivatedToggleCount(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.ASWACTIVATEDTOGGLECOUNT, dst); return this; }
+        /** Copies the {@code AswPresentedFrameCount} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAswPresentedFrameCount(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.ASWPRESENTEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code AswPresentedFrameCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAswPresentedFrameCount(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.ASWPRESENTEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code AswFailedFrameCount} field of the structs between the current position and limit to the specified array. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAswFailedFrameCount(int[] dst) { gather(OVRPerfStatsPerCompositorFrame.ASWFAILEDFRAMECOUNT, dst); return this; }
+        /** Copies the {@code AswFailedFrameCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPerfStatsPerCompositorFrame.Buffer getAswFailedFrameCount(IntBuffer dst) { gather(OVRPerfStatsPerCompositorFrame.ASWFAILEDFRAMECOUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -219,6 +219,24 @@ public class OVRPoseStatef extends Struct implements NativeResource {
         return wrap(OVRPoseStatef.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRPoseStatef} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRPoseStatef malloc(MemoryArena arena) {
+        return wrap(OVRPoseStatef.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRPoseStatef} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRPoseStatef calloc(MemoryArena arena) {
+        return wrap(OVRPoseStatef.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRPoseStatef.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -257,6 +275,26 @@ public class OVRPoseStatef extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRPoseStatef.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRPoseStatef.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRPoseStatef.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRPoseStatef.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ThePose}. */
@@ -328,6 +366,11 @@ public class OVRPoseStatef extends Struct implements NativeResource {
         /** Returns the value of the {@code TimeInSeconds} field. */
         public double TimeInSeconds() { return OVRPoseStatef.nTimeInSeconds(address()); }
 
+        /** Copies the {@code TimeInSeconds} field of the structs between the current position and limit to the specified array. */
+        public OVRPoseStatef.Buffer getTimeInSeconds(double[] dst) { gather(OVRPoseStatef.TIMEINSECONDS, dst); return this; }
+        /** Copies the {@code TimeInSeconds} field of the structs between the current position and limit to the specified buffer. */
+        public OVRPoseStatef.Buffer getTimeInSeconds(DoubleBuffer dst) { gather(OVRPoseStatef.TIMEINSECONDS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -231,6 +231,24 @@ public class OVRQuatf extends Struct implements NativeResource {
         return wrap(OVRQuatf.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRQuatf} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRQuatf malloc(MemoryArena arena) {
+        return wrap(OVRQuatf.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRQuatf} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRQuatf calloc(MemoryArena arena) {
+        return wrap(OVRQuatf.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRQuatf.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class OVRQuatf extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRQuatf.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRQuatf.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRQuatf.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRQuatf.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -345,6 +383,40 @@ public class OVRQuatf extends Struct implements NativeResource {
         /** Sets the specified value to the {@code w} field. */
         public OVRQuatf.Buffer w(float value) { OVRQuatf.nw(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public OVRQuatf.Buffer getX(float[] dst) { gather(OVRQuatf.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public OVRQuatf.Buffer getX(FloatBuffer dst) { gather(OVRQuatf.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public OVRQuatf.Buffer getY(float[] dst) { gather(OVRQuatf.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public OVRQuatf.Buffer getY(FloatBuffer dst) { gather(OVRQuatf.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public OVRQuatf.Buffer getZ(float[] dst) { gather(OVRQuatf.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public OVRQuatf.Buffer getZ(FloatBuffer dst) { gather(OVRQuatf.Z, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public OVRQuatf.Buffer getW(float[] dst) { gather(OVRQuatf.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public OVRQuatf.Buffer getW(FloatBuffer dst) { gather(OVRQuatf.W, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putX(float[] src) { scatter(OVRQuatf.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putX(FloatBuffer src) { scatter(OVRQuatf.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putY(float[] src) { scatter(OVRQuatf.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putY(FloatBuffer src) { scatter(OVRQuatf.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putZ(float[] src) { scatter(OVRQuatf.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putZ(FloatBuffer src) { scatter(OVRQuatf.Z, src); return this; }
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putW(float[] src) { scatter(OVRQuatf.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public OVRQuatf.Buffer putW(FloatBuffer src) { scatter(OVRQuatf.W, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -209,6 +209,24 @@ public class OVRSizei extends Struct implements NativeResource {
         return wrap(OVRSizei.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRSizei} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRSizei malloc(MemoryArena arena) {
+        return wrap(OVRSizei.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRSizei} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRSizei calloc(MemoryArena arena) {
+        return wrap(OVRSizei.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRSizei.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -247,6 +265,26 @@ public class OVRSizei extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRSizei.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRSizei.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRSizei.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRSizei.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #w}. */
@@ -307,6 +345,24 @@ public class OVRSizei extends Struct implements NativeResource {
         /** Sets the specified value to the {@code h} field. */
         public OVRSizei.Buffer h(int value) { OVRSizei.nh(address(), value); return this; }
 
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public OVRSizei.Buffer getW(int[] dst) { gather(OVRSizei.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public OVRSizei.Buffer getW(IntBuffer dst) { gather(OVRSizei.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public OVRSizei.Buffer getH(int[] dst) { gather(OVRSizei.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public OVRSizei.Buffer getH(IntBuffer dst) { gather(OVRSizei.H, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public OVRSizei.Buffer putW(int[] src) { scatter(OVRSizei.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public OVRSizei.Buffer putW(IntBuffer src) { scatter(OVRSizei.W, src); return this; }
+        /** Copies the values in the specified array to the {@code h} field of the structs between the current position and limit. */
+        public OVRSizei.Buffer putH(int[] src) { scatter(OVRSizei.H, src); return this; }
+        /** Copies the values in the specified buffer to the {@code h} field of the structs between the current position and limit. */
+        public OVRSizei.Buffer putH(IntBuffer src) { scatter(OVRSizei.H, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -196,6 +196,24 @@ public class OVRTextureLayoutDescUnion extends Struct implements NativeResource
         return wrap(OVRTextureLayoutDescUnion.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTextureLayoutDescUnion} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTextureLayoutDescUnion malloc(MemoryArena arena) {
+        return wrap(OVRTextureLayoutDescUnion.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTextureLayoutDescUnion} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTextureLayoutDescUnion calloc(MemoryArena arena) {
+        return wrap(OVRTextureLayoutDescUnion.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTextureLayoutDescUnion.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -234,6 +252,26 @@ public class OVRTextureLayoutDescUnion extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTextureLayoutDescUnion.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTextureLayoutDescUnion.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTextureLayoutDescUnion.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTextureLayoutDescUnion.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Octilinear}. */
@@ -321,6 +321,24 @@ public class OVRTextureLayoutOctilinear extends Struct implements NativeResource
         return wrap(OVRTextureLayoutOctilinear.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTextureLayoutOctilinear} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTextureLayoutOctilinear malloc(MemoryArena arena) {
+        return wrap(OVRTextureLayoutOctilinear.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTextureLayoutOctilinear} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTextureLayoutOctilinear calloc(MemoryArena arena) {
+        return wrap(OVRTextureLayoutOctilinear.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTextureLayoutOctilinear.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -359,6 +377,26 @@ public class OVRTextureLayoutOctilinear extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTextureLayoutOctilinear.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTextureLayoutOctilinear.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTextureLayoutOctilinear.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTextureLayoutOctilinear.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #WarpLeft}. */
@@ -467,6 +505,72 @@ public class OVRTextureLayoutOctilinear extends Struct implements NativeResource
         /** Sets the specified value to the {@code SizeDown} field. */
         public OVRTextureLayoutOctilinear.Buffer SizeDown(float value) { OVRTextureLayoutOctilinear.nSizeDown(address(), value); return this; }
 
+        /** Copies the {@code WarpLeft} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpLeft(float[] dst) { gather(OVRTextureLayoutOctilinear.WARPLEFT, dst); return this; }
+        /** Copies the {@code WarpLeft} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpLeft(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.WARPLEFT, dst); return this; }
+        /** Copies the {@code WarpRight} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpRight(float[] dst) { gather(OVRTextureLayoutOctilinear.WARPRIGHT, dst); return this; }
+        /** Copies the {@code WarpRight} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpRight(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.WARPRIGHT, dst); return this; }
+        /** Copies the {@code WarpUp} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpUp(float[] dst) { gather(OVRTextureLayoutOctilinear.WARPUP, dst); return this; }
+        /** Copies the {@code WarpUp} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpUp(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.WARPUP, dst); return this; }
+        /** Copies the {@code WarpDown} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpDown(float[] dst) { gather(OVRTextureLayoutOctilinear.WARPDOWN, dst); return this; }
+        /** Copies the {@code WarpDown} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getWarpDown(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.WARPDOWN, dst); return this; }
+        /** Copies the {@code SizeLeft} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeLeft(float[] dst) { gather(OVRTextureLayoutOctilinear.SIZELEFT, dst); return this; }
+        /** Copies the {@code SizeLeft} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeLeft(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.SIZELEFT, dst); return this; }
+        /** Copies the {@code SizeRight} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeRight(float[] dst) { gather(OVRTextureLayoutOctilinear.SIZERIGHT, dst); return this; }
+        /** Copies the {@code SizeRight} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeRight(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.SIZERIGHT, dst); return this; }
+        /** Copies the {@code SizeUp} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeUp(float[] dst) { gather(OVRTextureLayoutOctilinear.SIZEUP, dst); return this; }
+        /** Copies the {@code SizeUp} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeUp(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.SIZEUP, dst); return this; }
+        /** Copies the {@code SizeDown} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeDown(float[] dst) { gather(OVRTextureLayoutOctilinear.SIZEDOWN, dst); return this; }
+        /** Copies the {@code SizeDown} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureLayoutOctilinear.Buffer getSizeDown(FloatBuffer dst) { gather(OVRTextureLayoutOctilinear.SIZEDOWN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code WarpLeft} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpLeft(float[] src) { scatter(OVRTextureLayoutOctilinear.WARPLEFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code WarpLeft} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpLeft(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.WARPLEFT, src); return this; }
+        /** Copies the values in the specified array to the {@code WarpRight} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpRight(float[] src) { scatter(OVRTextureLayoutOctilinear.WARPRIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code WarpRight} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpRight(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.WARPRIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code WarpUp} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpUp(float[] src) { scatter(OVRTextureLayoutOctilinear.WARPUP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code WarpUp} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpUp(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.WARPUP, src); return this; }
+        /** Copies the values in the specified array to the {@code WarpDown} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpDown(float[] src) { scatter(OVRTextureLayoutOctilinear.WARPDOWN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code WarpDown} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putWarpDown(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.WARPDOWN, src); return this; }
+        /** Copies the values in the specified array to the {@code SizeLeft} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeLeft(float[] src) { scatter(OVRTextureLayoutOctilinear.SIZELEFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SizeLeft} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeLeft(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.SIZELEFT, src); return this; }
+        /** Copies the values in the specified array to the {@code SizeRight} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeRight(float[] src) { scatter(OVRTextureLayoutOctilinear.SIZERIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SizeRight} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeRight(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.SIZERIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code SizeUp} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeUp(float[] src) { scatter(OVRTextureLayoutOctilinear.SIZEUP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SizeUp} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeUp(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.SIZEUP, src); return this; }
+        /** Copies the values in the specified array to the {@code SizeDown} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeDown(float[] src) { scatter(OVRTextureLayoutOctilinear.SIZEDOWN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SizeDown} field of the structs between the current position and limit. */
+        public OVRTextureLayoutOctilinear.Buffer putSizeDown(FloatBuffer src) { scatter(OVRTextureLayoutOctilinear.SIZEDOWN, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -298,6 +298,24 @@ public class OVRTextureSwapChainDesc extends Struct implements NativeResource {
         return wrap(OVRTextureSwapChainDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTextureSwapChainDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTextureSwapChainDesc malloc(MemoryArena arena) {
+        return wrap(OVRTextureSwapChainDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTextureSwapChainDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTextureSwapChainDesc calloc(MemoryArena arena) {
+        return wrap(OVRTextureSwapChainDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTextureSwapChainDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -336,6 +354,26 @@ public class OVRTextureSwapChainDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTextureSwapChainDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTextureSwapChainDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTextureSwapChainDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTextureSwapChainDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Type}. */
@@ -465,6 +503,80 @@ public class OVRTextureSwapChainDesc extends Struct implements NativeResource {
         /** Sets the specified value to the {@code BindFlags} field. */
         public OVRTextureSwapChainDesc.Buffer BindFlags(@NativeType("unsigned int") int value) { OVRTextureSwapChainDesc.nBindFlags(address(), value); return this; }
 
+        /** Copies the {@code Type} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getType(int[] dst) { gather(OVRTextureSwapChainDesc.TYPE, dst); return this; }
+        /** Copies the {@code Type} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getType(IntBuffer dst) { gather(OVRTextureSwapChainDesc.TYPE, dst); return this; }
+        /** Copies the {@code Format} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getFormat(int[] dst) { gather(OVRTextureSwapChainDesc.FORMAT, dst); return this; }
+        /** Copies the {@code Format} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getFormat(IntBuffer dst) { gather(OVRTextureSwapChainDesc.FORMAT, dst); return this; }
+        /** Copies the {@code ArraySize} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getArraySize(int[] dst) { gather(OVRTextureSwapChainDesc.ARRAYSIZE, dst); return this; }
+        /** Copies the {@code ArraySize} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getArraySize(IntBuffer dst) { gather(OVRTextureSwapChainDesc.ARRAYSIZE, dst); return this; }
+        /** Copies the {@code Width} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getWidth(int[] dst) { gather(OVRTextureSwapChainDesc.WIDTH, dst); return this; }
+        /** Copies the {@code Width} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getWidth(IntBuffer dst) { gather(OVRTextureSwapChainDesc.WIDTH, dst); return this; }
+        /** Copies the {@code Height} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getHeight(int[] dst) { gather(OVRTextureSwapChainDesc.HEIGHT, dst); return this; }
+        /** Copies the {@code Height} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getHeight(IntBuffer dst) { gather(OVRTextureSwapChainDesc.HEIGHT, dst); return this; }
+        /** Copies the {@code MipLevels} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getMipLevels(int[] dst) { gather(OVRTextureSwapChainDesc.MIPLEVELS, dst); return this; }
+        /** Copies the {@code MipLevels} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getMipLevels(IntBuffer dst) { gather(OVRTextureSwapChainDesc.MIPLEVELS, dst); return this; }
+        /** Copies the {@code SampleCount} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getSampleCount(int[] dst) { gather(OVRTextureSwapChainDesc.SAMPLECOUNT, dst); return this; }
+        /** Copies the {@code SampleCount} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getSampleCount(IntBuffer dst) { gather(OVRTextureSwapChainDesc.SAMPLECOUNT, dst); return this; }
+        /** Copies the {@code MiscFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getMiscFlags(int[] dst) { gather(OVRTextureSwapChainDesc.MISCFLAGS, dst); return this; }
+        /** Copies the {@code MiscFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getMiscFlags(IntBuffer dst) { gather(OVRTextureSwapChainDesc.MISCFLAGS, dst); return this; }
+        /** Copies the {@code BindFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRTextureSwapChainDesc.Buffer getBindFlags(int[] dst) { gather(OVRTextureSwapChainDesc.BINDFLAGS, dst); return this; }
+        /** Copies the {@code BindFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTextureSwapChainDesc.Buffer getBindFlags(IntBuffer dst) { gather(OVRTextureSwapChainDesc.BINDFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code Type} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putType(int[] src) { scatter(OVRTextureSwapChainDesc.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Type} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putType(IntBuffer src) { scatter(OVRTextureSwapChainDesc.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code Format} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putFormat(int[] src) { scatter(OVRTextureSwapChainDesc.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Format} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putFormat(IntBuffer src) { scatter(OVRTextureSwapChainDesc.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code ArraySize} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putArraySize(int[] src) { scatter(OVRTextureSwapChainDesc.ARRAYSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ArraySize} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putArraySize(IntBuffer src) { scatter(OVRTextureSwapChainDesc.ARRAYSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code Width} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putWidth(int[] src) { scatter(OVRTextureSwapChainDesc.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Width} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putWidth(IntBuffer src) { scatter(OVRTextureSwapChainDesc.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code Height} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putHeight(int[] src) { scatter(OVRTextureSwapChainDesc.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code Height} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putHeight(IntBuffer src) { scatter(OVRTextureSwapChainDesc.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code MipLevels} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putMipLevels(int[] src) { scatter(OVRTextureSwapChainDesc.MIPLEVELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code MipLevels} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putMipLevels(IntBuffer src) { scatter(OVRTextureSwapChainDesc.MIPLEVELS, src); return this; }
+        /** Copies the values in the specified array to the {@code SampleCount} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putSampleCount(int[] src) { scatter(OVRTextureSwapChainDesc.SAMPLECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code SampleCount} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putSampleCount(IntBuffer src) { scatter(OVRTextureSwapChainDesc.SAMPLECOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code MiscFlags} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putMiscFlags(int[] src) { scatter(OVRTextureSwapChainDesc.MISCFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code MiscFlags} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putMiscFlags(IntBuffer src) { scatter(OVRTextureSwapChainDesc.MISCFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code BindFlags} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putBindFlags(int[] src) { scatter(OVRTextureSwapChainDesc.BINDFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code BindFlags} field of the structs between the current position and limit. */
+        public OVRTextureSwapChainDesc.Buffer putBindFlags(IntBuffer src) { scatter(OVRTextureSwapChainDesc.BINDFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -190,6 +190,24 @@ public class OVRTimewarpProjectionDesc extends Struct implements NativeResource
         return wrap(OVRTimewarpProjectionDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTimewarpProjectionDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTimewarpProjectionDesc malloc(MemoryArena arena) {
+        return wrap(OVRTimewarpProjectionDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTimewarpProjectionDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTimewarpProjectionDesc calloc(MemoryArena arena) {
+        return wrap(OVRTimewarpProjectionDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTimewarpProjectionDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -228,6 +246,26 @@ public class OVRTimewarpProjectionDesc extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTimewarpProjectionDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTimewarpProjectionDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTimewarpProjectionDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTimewarpProjectionDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #Projection22}. */
@@ -282,6 +320,19 @@ public class OVRTimewarpProjectionDesc extends Struct implements NativeResource
         /** Returns the value of the {@code Projection32} field. */
         public float Projection32() { return OVRTimewarpProjectionDesc.nProjection32(address()); }
 
+        /** Copies the {@code Projection22} field of the structs between the current position and limit to the specified array. */
+        public OVRTimewarpProjectionDesc.Buffer getProjection22(float[] dst) { gather(OVRTimewarpProjectionDesc.PROJECTION22, dst); return this; }
+        /** Copies the {@code Projection22} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTimewarpProjectionDesc.Buffer getProjection22(FloatBuffer dst) { gather(OVRTimewarpProjectionDesc.PROJECTION22, dst); return this; }
+        /** Copies the {@code Projection23} field of the structs between the current position and limit to the specified array. */
+        public OVRTimewarpProjectionDesc.Buffer getProjection23(float[] dst) { gather(OVRTimewarpProjectionDesc.PROJECTION23, dst); return this; }
+        /** Copies the {@code Projection23} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTimewarpProjectionDesc.Buffer getProjection23(FloatBuffer dst) { gather(OVRTimewarpProjectionDesc.PROJECTION23, dst); return this; }
+        /** Copies the {@code Projection32} field of the structs between the current position and limit to the specified array. */
+        public OVRTimewarpProjectionDesc.Buffer getProjection32(float[] dst) { gather(OVRTimewarpProjectionDesc.PROJECTION32, dst); return this; }
+        /** Copies the {@code Projection32} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTimewarpProjectionDesc.Buffer getProjection32(FloatBuffer dst) { gather(OVRTimewarpProjectionDesc.PROJECTION32, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -210,6 +210,24 @@ public class OVRTouchHapticsDesc extends Struct implements NativeResource {
         return wrap(OVRTouchHapticsDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTouchHapticsDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTouchHapticsDesc malloc(MemoryArena arena) {
+        return wrap(OVRTouchHapticsDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTouchHapticsDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTouchHapticsDesc calloc(MemoryArena arena) {
+        return wrap(OVRTouchHapticsDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTouchHapticsDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class OVRTouchHapticsDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTouchHapticsDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTouchHapticsDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTouchHapticsDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTouchHapticsDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #SampleRateHz}. */
@@ -314,6 +352,31 @@ public class OVRTouchHapticsDesc extends Struct implements NativeResource {
         /** Returns the value of the {@code SubmitOptimalSamples} field. */
         public int SubmitOptimalSamples() { return OVRTouchHapticsDesc.nSubmitOptimalSamples(address()); }
 
+        /** Copies the {@code SampleRateHz} field of the structs between the current position and limit to the specified array. */
+        public OVRTouchHapticsDesc.Buffer getSampleRateHz(int[] dst) { gather(OVRTouchHapticsDesc.SAMPLERATEHZ, dst); return this; }
+        /** Copies the {@code SampleRateHz} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTouchHapticsDesc.Buffer getSampleRateHz(IntBuffer dst) { gather(OVRTouchHapticsDesc.SAMPLERATEHZ, dst); return this; }
+        /** Copies the {@code SampleSizeInBytes} field of the structs between the current position and limit to the specified array. */
+        public OVRTouchHapticsDesc.Buffer getSampleSizeInBytes(int[] dst) { gather(OVRTouchHapticsDesc.SAMPLESIZEINBYTES, dst); return this; }
+        /** Copies the {@code SampleSizeInBytes} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTouchHapticsDesc.Buffer getSampleSizeInBytes(IntBuffer dst) { gather(OVRTouchHapticsDesc.SAMPLESIZEINBYTES, dst); return this; }
+        /** Copies the {@code QueueMinSizeToAvoidStarvation} field of the structs between the current position and limit to the specified array. */
+        public OVRTouchHapticsDesc.Buffer getQueueMinSizeToAvoidStarvation(int[] dst) { gather(OVRTouchHapticsDesc.QUEUEMINSIZETOAVOIDSTARVATION, dst); return this; }
+        /** Copies the {@code QueueMinSizeToAvoidStarvation} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTouchHapticsDesc.Buffer getQueueMinSizeToAvoidStarvation(IntBuffer dst) { gather(OVRTouchHapticsDesc.QUEUEMINSIZETOAVOIDSTARVATION, dst); return this; }
+        /** Copies the {@code SubmitMinSamples} field of the structs between the current position and limit to the specified array. */
+        public OVRTouchHapticsDesc.Buffer getSubmitMinSamples(int[] dst) { gather(OVRTouchHapticsDesc.SUBMITMINSAMPLES, dst); return this; }
+        /** Copies the {@code SubmitMinSamples} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTouchHapticsDesc.Buffer getSubmitMinSamples(IntBuffer dst) { gather(OVRTouchHapticsDesc.SUBMITMINSAMPLES, dst); return this; }
+        /** Copies the {@code SubmitMaxSamples} field of the structs between the current position and limit to the specified array. */
+        public OVRTouchHapticsDesc.Buffer getSubmitMaxSamples(int[] dst) { gather(OVRTouchHapticsDesc.SUBMITMAXSAMPLES, dst); return this; }
+        /** Copies the {@code SubmitMaxSamples} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTouchHapticsDesc.Buffer getSubmitMaxSamples(IntBuffer dst) { gather(OVRTouchHapticsDesc.SUBMITMAXSAMPLES, dst); return this; }
+        /** Copies the {@code SubmitOptimalSamples} field of the structs between the current position and limit to the specified array. */
+        public OVRTouchHapticsDesc.Buffer getSubmitOptimalSamples(int[] dst) { gather(OVRTouchHapticsDesc.SUBMITOPTIMALSAMPLES, dst); return this; }
+        /** Copies the {@code SubmitOptimalSamples} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTouchHapticsDesc.Buffer getSubmitOptimalSamples(IntBuffer dst) { gather(OVRTouchHapticsDesc.SUBMITOPTIMALSAMPLES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
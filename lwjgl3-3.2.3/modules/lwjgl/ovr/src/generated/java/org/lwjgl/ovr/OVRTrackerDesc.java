@@ -196,6 +196,24 @@ public class OVRTrackerDesc extends Struct implements NativeResource {
         return wrap(OVRTrackerDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTrackerDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTrackerDesc malloc(MemoryArena arena) {
+        return wrap(OVRTrackerDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTrackerDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTrackerDesc calloc(MemoryArena arena) {
+        return wrap(OVRTrackerDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTrackerDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -234,6 +252,26 @@ public class OVRTrackerDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTrackerDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTrackerDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTrackerDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTrackerDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #FrustumHFovInRadians}. */
@@ -292,6 +330,23 @@ public class OVRTrackerDesc extends Struct implements NativeResource {
         /** Returns the value of the {@code FrustumFarZInMeters} field. */
         public float FrustumFarZInMeters() { return OVRTrackerDesc.nFrustumFarZInMeters(address()); }
 
+        /** Copies the {@code FrustumHFovInRadians} field of the structs between the current position and limit to the specified array. */
+        public OVRTrackerDesc.Buffer getFrustumHFovInRadians(float[] dst) { gather(OVRTrackerDesc.FRUSTUMHFOVINRADIANS, dst); return this; }
+        /** Copies the {@code FrustumHFovInRadians} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTrackerDesc.Buffer getFrustumHFovInRadians(FloatBuffer dst) { gather(OVRTrackerDesc.FRUSTUMHFOVINRADIANS, dst); return this; }
+        /** Copies the {@code FrustumVFovInRadians} field of the structs between the current position and limit to the specified array. */
+        public OVRTrackerDesc.Buffer getFrustumVFovInRadians(float[] dst) { gather(OVRTrackerDesc.FRUSTUMVFOVINRADIANS, dst); return this; }
+        /** Copies the {@code FrustumVFovInRadians} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTrackerDesc.Buffer getFrustumVFovInRadians(FloatBuffer dst) { gather(OVRTrackerDesc.FRUSTUMVFOVINRADIANS, dst); return this; }
+        /** Copies the {@code FrustumNearZInMeters} field of the structs between the current position and limit to the specified array. */
+        public OVRTrackerDesc.Buffer getFrustumNearZInMeters(float[] dst) { gather(OVRTrackerDesc.FRUSTUMNEARZINMETERS, dst); return this; }
+        /** Copies the {@code FrustumNearZInMeters} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTrackerDesc.Buffer getFrustumNearZInMeters(FloatBuffer dst) { gather(OVRTrackerDesc.FRUSTUMNEARZINMETERS, dst); return this; }
+        /** Copies the {@code FrustumFarZInMeters} field of the structs between the current position and limit to the specified array. */
+        public OVRTrackerDesc.Buffer getFrustumFarZInMeters(float[] dst) { gather(OVRTrackerDesc.FRUSTUMFARZINMETERS, dst); return this; }
+        /** Copies the {@code FrustumFarZInMeters} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTrackerDesc.Buffer getFrustumFarZInMeters(FloatBuffer dst) { gather(OVRTrackerDesc.FRUSTUMFARZINMETERS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -194,6 +194,24 @@ public class OVRTrackerPose extends Struct implements NativeResource {
         return wrap(OVRTrackerPose.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTrackerPose} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTrackerPose malloc(MemoryArena arena) {
+        return wrap(OVRTrackerPose.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTrackerPose} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTrackerPose calloc(MemoryArena arena) {
+        return wrap(OVRTrackerPose.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTrackerPose.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -232,6 +250,26 @@ public class OVRTrackerPose extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTrackerPose.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTrackerPose.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTrackerPose.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTrackerPose.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #TrackerFlags}. */
@@ -289,6 +327,11 @@ public class OVRTrackerPose extends Struct implements NativeResource {
         @NativeType("ovrPosef")
         public OVRPosef LeveledPose() { return OVRTrackerPose.nLeveledPose(address()); }
 
+        /** Copies the {@code TrackerFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRTrackerPose.Buffer getTrackerFlags(int[] dst) { gather(OVRTrackerPose.TRACKERFLAGS, dst); return this; }
+        /** Copies the {@code TrackerFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTrackerPose.Buffer getTrackerFlags(IntBuffer dst) { gather(OVRTrackerPose.TRACKERFLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
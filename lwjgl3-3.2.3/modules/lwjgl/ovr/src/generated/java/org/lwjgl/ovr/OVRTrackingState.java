@@ -224,6 +224,24 @@ public class OVRTrackingState extends Struct implements NativeResource {
         return wrap(OVRTrackingState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRTrackingState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTrackingState malloc(MemoryArena arena) {
+        return wrap(OVRTrackingState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRTrackingState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRTrackingState calloc(MemoryArena arena) {
+        return wrap(OVRTrackingState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRTrackingState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class OVRTrackingState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRTrackingState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTrackingState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRTrackingState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRTrackingState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #HeadPose}. */
@@ -343,6 +381,11 @@ public class OVRTrackingState extends Struct implements NativeResource {
         @NativeType("ovrPosef")
         public OVRPosef CalibratedOrigin() { return OVRTrackingState.nCalibratedOrigin(address()); }
 
+        /** Copies the {@code StatusFlags} field of the structs between the current position and limit to the specified array. */
+        public OVRTrackingState.Buffer getStatusFlags(int[] dst) { gather(OVRTrackingState.STATUSFLAGS, dst); return this; }
+        /** Copies the {@code StatusFlags} field of the structs between the current position and limit to the specified buffer. */
+        public OVRTrackingState.Buffer getStatusFlags(IntBuffer dst) { gather(OVRTrackingState.STATUSFLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -69,6 +69,8 @@ public class OVRUtil {
         ovrHapticsGenMode_PointSample = 0,
         ovrHapticsGenMode_Count       = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OVRUtil.class, "ovr_Detect,ovrMatrix4f_Projection,ovrTimewarpProjectionDesc_FromProjection,ovrMatrix4f_OrthoSubProjection,ovr_CalcEyePoses,ovr_GetEyePoses,ovrPosef_FlipHandedness,ovr_ReadWavFromBuffer,ovr_GenHapticsFromAudioData,ovr_ReleaseAudioChannelData,ovr_ReleaseHapticsClip");
+
     static { LibOVR.initialize(); }
 
     protected OVRUtil() {
@@ -90,7 +92,9 @@ public class OVRUtil {
      */
     @NativeType("ovrDetectResult")
     public static OVRDetectResult ovr_Detect(int timeoutMilliseconds, @NativeType("ovrDetectResult") OVRDetectResult __result) {
+        long __start = FunctionProfiler.start();
         novr_Detect(timeoutMilliseconds, __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
@@ -110,7 +114,9 @@ public class OVRUtil {
      */
     @NativeType("ovrMatrix4f")
     public static OVRMatrix4f ovrMatrix4f_Projection(@NativeType("ovrFovPort") OVRFovPort fov, float znear, float zfar, @NativeType("unsigned int") int projectionModFlags, @NativeType("ovrMatrix4f") OVRMatrix4f __result) {
+        long __start = FunctionProfiler.start();
         novrMatrix4f_Projection(fov.address(), znear, zfar, projectionModFlags, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
         return __result;
     }
 
@@ -128,7 +134,9 @@ public class OVRUtil {
      */
     @NativeType("ovrTimewarpProjectionDesc")
     public static OVRTimewarpProjectionDesc ovrTimewarpProjectionDesc_FromProjection(@NativeType("ovrMatrix4f") OVRMatrix4f projection, @NativeType("unsigned int") int projectionModFlags, @NativeType("ovrTimewarpProjectionDesc") OVRTimewarpProjectionDesc __result) {
+        long __start = FunctionProfiler.start();
         novrTimewarpProjectionDesc_FromProjection(projection.address(), projectionModFlags, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
         return __result;
     }
 
@@ -150,7 +158,9 @@ public class OVRUtil {
      */
     @NativeType("ovrMatrix4f")
     public static OVRMatrix4f ovrMatrix4f_OrthoSubProjection(@NativeType("ovrMatrix4f") OVRMatrix4f projection, @NativeType("ovrVector2f") OVRVector2f orthoScale, float orthoDistance, float HmdToEyeOffsetX, @NativeType("ovrMatrix4f") OVRMatrix4f __result) {
+        long __start = FunctionProfiler.start();
         novrMatrix4f_OrthoSubProjection(projection.address(), orthoScale.address(), orthoDistance, HmdToEyeOffsetX, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
         return __result;
     }
 
@@ -173,7 +183,9 @@ public class OVRUtil {
             check(HmdToEyePose, 2);
             check(outEyePoses, 2);
         }
+        long __start = FunctionProfiler.start();
         novr_CalcEyePoses(headPose.address(), HmdToEyePose.address(), outEyePoses.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ ovr_GetEyePoses ] ---
@@ -204,7 +216,9 @@ public class OVRUtil {
             check(outEyePoses, 2);
             checkSafe(outSensorSampleTime, 1);
         }
+        long __start = FunctionProfiler.start();
         novr_GetEyePoses(session, frameIndex, latencyMarker, HmdToEyePose.address(), outEyePoses.address(), memAddressSafe(outSensorSampleTime));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ ovrPosef_FlipHandedness ] ---
@@ -223,7 +237,9 @@ public class OVRUtil {
      * @param outPose the pose that is requested to be left-handed (can be the same pointer to {@code inPose})
      */
     public static void ovrPosef_FlipHandedness(@NativeType("ovrPosef const *") OVRPosef inPose, @NativeType("ovrPosef *") OVRPosef outPose) {
+        long __start = FunctionProfiler.start();
         novrPosef_FlipHandedness(inPose.address(), outPose.address());
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ ovr_ReadWavFromBuffer ] ---
@@ -249,7 +265,8 @@ public class OVRUtil {
      */
     @NativeType("ovrResult")
     public static int ovr_ReadWavFromBuffer(@NativeType("ovrAudioChannelData *") OVRAudioChannelData outAudioChannel, @NativeType("void const *") ByteBuffer inputData, int stereoChannelToUse) {
-        return novr_ReadWavFromBuffer(outAudioChannel.address(), memAddress(inputData), inputData.remaining(), stereoChannelToUse);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, novr_ReadWavFromBuffer(outAudioChannel.address(), memAddress(inputData), inputData.remaining(), stereoChannelToUse));
     }
 
     // --- [ ovr_GenHapticsFromAudioData ] ---
@@ -266,7 +283,8 @@ public class OVRUtil {
      */
     @NativeType("ovrResult")
     public static int ovr_GenHapticsFromAudioData(@NativeType("ovrHapticsClip *") OVRHapticsClip outHapticsClip, @NativeType("ovrAudioChannelData const *") OVRAudioChannelData audioChannel, @NativeType("ovrHapticsGenMode") int genMode) {
-        return novr_GenHapticsFromAudioData(outHapticsClip.address(), audioChannel.address(), genMode);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, novr_GenHapticsFromAudioData(outHapticsClip.address(), audioChannel.address(), genMode));
     }
 
     // --- [ ovr_ReleaseAudioChannelData ] ---
@@ -280,7 +298,9 @@ public class OVRUtil {
      * @param audioChannel pointer to an audio channel
      */
     public static void ovr_ReleaseAudioChannelData(@NativeType("ovrAudioChannelData *") OVRAudioChannelData audioChannel) {
+        long __start = FunctionProfiler.start();
         novr_ReleaseAudioChannelData(audioChannel.address());
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ ovr_ReleaseHapticsClip ] ---
@@ -294,7 +314,9 @@ public class OVRUtil {
      * @param hapticsClip pointer to a haptics clip
      */
     public static void ovr_ReleaseHapticsClip(@NativeType("ovrHapticsClip *") OVRHapticsClip hapticsClip) {
+        long __start = FunctionProfiler.start();
         novr_ReleaseHapticsClip(hapticsClip.address());
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Array version of: {@link #novr_GetEyePoses} */
@@ -308,7 +330,9 @@ public class OVRUtil {
             check(outEyePoses, 2);
             checkSafe(outSensorSampleTime, 1);
         }
+        long __start = FunctionProfiler.start();
         novr_GetEyePoses(session, frameIndex, latencyMarker, HmdToEyePose.address(), outEyePoses.address(), outSensorSampleTime);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
 }
\ No newline at end of file
@@ -209,6 +209,24 @@ public class OVRVector2f extends Struct implements NativeResource {
         return wrap(OVRVector2f.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRVector2f} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRVector2f malloc(MemoryArena arena) {
+        return wrap(OVRVector2f.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRVector2f} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRVector2f calloc(MemoryArena arena) {
+        return wrap(OVRVector2f.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRVector2f.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -247,6 +265,26 @@ public class OVRVector2f extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRVector2f.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRVector2f.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRVector2f.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRVector2f.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -307,6 +345,24 @@ public class OVRVector2f extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public OVRVector2f.Buffer y(float value) { OVRVector2f.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public OVRVector2f.Buffer getX(float[] dst) { gather(OVRVector2f.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector2f.Buffer getX(FloatBuffer dst) { gather(OVRVector2f.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public OVRVector2f.Buffer getY(float[] dst) { gather(OVRVector2f.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector2f.Buffer getY(FloatBuffer dst) { gather(OVRVector2f.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public OVRVector2f.Buffer putX(float[] src) { scatter(OVRVector2f.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public OVRVector2f.Buffer putX(FloatBuffer src) { scatter(OVRVector2f.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public OVRVector2f.Buffer putY(float[] src) { scatter(OVRVector2f.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public OVRVector2f.Buffer putY(FloatBuffer src) { scatter(OVRVector2f.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
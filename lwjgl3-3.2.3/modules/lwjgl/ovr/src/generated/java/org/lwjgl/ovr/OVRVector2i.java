@@ -209,6 +209,24 @@ public class OVRVector2i extends Struct implements NativeResource {
         return wrap(OVRVector2i.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRVector2i} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRVector2i malloc(MemoryArena arena) {
+        return wrap(OVRVector2i.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRVector2i} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRVector2i calloc(MemoryArena arena) {
+        return wrap(OVRVector2i.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRVector2i.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -247,6 +265,26 @@ public class OVRVector2i extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRVector2i.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRVector2i.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRVector2i.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRVector2i.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -307,6 +345,24 @@ public class OVRVector2i extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public OVRVector2i.Buffer y(int value) { OVRVector2i.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public OVRVector2i.Buffer getX(int[] dst) { gather(OVRVector2i.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector2i.Buffer getX(IntBuffer dst) { gather(OVRVector2i.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public OVRVector2i.Buffer getY(int[] dst) { gather(OVRVector2i.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector2i.Buffer getY(IntBuffer dst) { gather(OVRVector2i.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public OVRVector2i.Buffer putX(int[] src) { scatter(OVRVector2i.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public OVRVector2i.Buffer putX(IntBuffer src) { scatter(OVRVector2i.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public OVRVector2i.Buffer putY(int[] src) { scatter(OVRVector2i.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public OVRVector2i.Buffer putY(IntBuffer src) { scatter(OVRVector2i.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
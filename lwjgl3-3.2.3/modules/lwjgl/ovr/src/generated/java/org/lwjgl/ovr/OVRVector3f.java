@@ -220,6 +220,24 @@ public class OVRVector3f extends Struct implements NativeResource {
         return wrap(OVRVector3f.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRVector3f} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRVector3f malloc(MemoryArena arena) {
+        return wrap(OVRVector3f.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRVector3f} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRVector3f calloc(MemoryArena arena) {
+        return wrap(OVRVector3f.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRVector3f.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class OVRVector3f extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRVector3f.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRVector3f.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRVector3f.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRVector3f.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -326,6 +364,32 @@ public class OVRVector3f extends Struct implements NativeResource {
         /** Sets the specified value to the {@code z} field. */
         public OVRVector3f.Buffer z(float value) { OVRVector3f.nz(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public OVRVector3f.Buffer getX(float[] dst) { gather(OVRVector3f.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector3f.Buffer getX(FloatBuffer dst) { gather(OVRVector3f.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public OVRVector3f.Buffer getY(float[] dst) { gather(OVRVector3f.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector3f.Buffer getY(FloatBuffer dst) { gather(OVRVector3f.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public OVRVector3f.Buffer getZ(float[] dst) { gather(OVRVector3f.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public OVRVector3f.Buffer getZ(FloatBuffer dst) { gather(OVRVector3f.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public OVRVector3f.Buffer putX(float[] src) { scatter(OVRVector3f.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public OVRVector3f.Buffer putX(FloatBuffer src) { scatter(OVRVector3f.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public OVRVector3f.Buffer putY(float[] src) { scatter(OVRVector3f.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public OVRVector3f.Buffer putY(FloatBuffer src) { scatter(OVRVector3f.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public OVRVector3f.Buffer putZ(float[] src) { scatter(OVRVector3f.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public OVRVector3f.Buffer putZ(FloatBuffer src) { scatter(OVRVector3f.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -232,6 +232,24 @@ public class OVRViewScaleDesc extends Struct implements NativeResource {
         return wrap(OVRViewScaleDesc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code OVRViewScaleDesc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRViewScaleDesc malloc(MemoryArena arena) {
+        return wrap(OVRViewScaleDesc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code OVRViewScaleDesc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static OVRViewScaleDesc calloc(MemoryArena arena) {
+        return wrap(OVRViewScaleDesc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link OVRViewScaleDesc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class OVRViewScaleDesc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link OVRViewScaleDesc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRViewScaleDesc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link OVRViewScaleDesc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static OVRViewScaleDesc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #HmdToEyePose}. */
@@ -351,6 +389,16 @@ public class OVRViewScaleDesc extends Struct implements NativeResource {
         /** Sets the specified value to the {@code HmdSpaceToWorldScaleInMeters} field. */
         public OVRViewScaleDesc.Buffer HmdSpaceToWorldScaleInMeters(float value) { OVRViewScaleDesc.nHmdSpaceToWorldScaleInMeters(address(), value); return this; }
 
+        /** Copies the {@code HmdSpaceToWorldScaleInMeters} field of the structs between the current position and limit to the specified array. */
+        public OVRViewScaleDesc.Buffer getHmdSpaceToWorldScaleInMeters(float[] dst) { gather(OVRViewScaleDesc.HMDSPACETOWORLDSCALEINMETERS, dst); return this; }
+        /** Copies the {@code HmdSpaceToWorldScaleInMeters} field of the structs between the current position and limit to the specified buffer. */
+        public OVRViewScaleDesc.Buffer getHmdSpaceToWorldScaleInMeters(FloatBuffer dst) { gather(OVRViewScaleDesc.HMDSPACETOWORLDSCALEINMETERS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code HmdSpaceToWorldScaleInMeters} field of the structs between the current position and limit. */
+        public OVRViewScaleDesc.Buffer putHmdSpaceToWorldScaleInMeters(float[] src) { scatter(OVRViewScaleDesc.HMDSPACETOWORLDSCALEINMETERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code HmdSpaceToWorldScaleInMeters} field of the structs between the current position and limit. */
+        public OVRViewScaleDesc.Buffer putHmdSpaceToWorldScaleInMeters(FloatBuffer src) { scatter(OVRViewScaleDesc.HMDSPACETOWORLDSCALEINMETERS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ import org.lwjgl.vulkan.*;
  */
 public class OVRVk {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(OVRVk.class, "ovr_GetInstanceExtensionsVk,ovr_GetDeviceExtensionsVk,ovr_GetSessionPhysicalDeviceVk,ovr_SetSynchronizationQueueVk,ovr_CreateTextureSwapChainVk,ovr_GetTextureSwapChainBufferVk,ovr_CreateMirrorTextureWithOptionsVk,ovr_GetMirrorTextureBufferVk");
+
     static { LibOVR.initialize(); }
 
     protected OVRVk() {
@@ -84,7 +86,8 @@ public class OVRVk {
             check(inoutExtensionNamesSize, 1);
             check(extensionNames, inoutExtensionNamesSize.get(inoutExtensionNamesSize.position()));
         }
-        return novr_GetInstanceExtensionsVk(luid.address(), memAddress(extensionNames), memAddress(inoutExtensionNamesSize));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, novr_GetInstanceExtensionsVk(luid.address(), memAddress(extensionNames), memAddress(inoutExtensionNamesSize)));
     }
 
     // --- [ ovr_GetDeviceExtensionsVk ] ---
@@ -120,7 +123,8 @@ public class OVRVk {
             check(inoutExtensionNamesSize, 1);
             check(extensionNames, inoutExtensionNamesSize.get(inoutExtensionNamesSize.position()));
         }
-        return novr_GetDeviceExtensionsVk(luid.address(), memAddress(extensionNames), memAddress(inoutExtensionNamesSize));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, novr_GetDeviceExtensionsVk(luid.address(), memAddress(extensionNames), memAddress(inoutExtensionNamesSize)));
     }
 
     // --- [ ovr_GetSessionPhysicalDeviceVk ] ---
@@ -151,7 +155,8 @@ public class OVRVk {
             check(session);
             check(out_physicalDevice, 1);
         }
-        return novr_GetSessionPhysicalDeviceVk(session, luid.address(), instance.address(), memAddress(out_physicalDevice));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, novr_GetSessionPhysicalDeviceVk(session, luid.address(), instance.address(), memAddress(out_physicalDevice)));
     }
 
     // --- [ ovr_SetSynchronizationQueueVk ] ---
@@ -180,7 +185,8 @@ public class OVRVk {
         if (CHECKS) {
             check(session);
         }
-        return novr_SetSynchronizationQueueVk(session, queue.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, novr_SetSynchronizationQueueVk(session, queue.address()));
     }
 
     // --- [ ovr_CreateTextureSwapChainVk ] ---
@@ -218,7 +224,8 @@ public class OVRVk {
             check(session);
             check(out_TextureSwapChain, 1);
         }
-        return novr_CreateTextureSwapChainVk(session, device.address(), desc.address(), memAddress(out_TextureSwapChain));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, novr_CreateTextureSwapChainVk(session, device.address(), desc.address(), memAddress(out_TextureSwapChain)));
     }
 
     // --- [ ovr_GetTextureSwapChainBufferVk ] ---
@@ -243,7 +250,8 @@ public class OVRVk {
             check(chain);
             check(out_Image, 1);
         }
-        return novr_GetTextureSwapChainBufferVk(session, chain, index, memAddress(out_Image));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, novr_GetTextureSwapChainBufferVk(session, chain, index, memAddress(out_Image)));
     }
 
     // --- [ ovr_CreateMirrorTextureWithOptionsVk ] ---
@@ -282,7 +290,8 @@ public class OVRVk {
             check(session);
             check(out_MirrorTexture, 1);
         }
-        return novr_CreateMirrorTextureWithOptionsVk(session, device.address(), desc.address(), memAddress(out_MirrorTexture));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, novr_CreateMirrorTextureWithOptionsVk(session, device.address(), desc.address(), memAddress(out_MirrorTexture)));
     }
 
     // --- [ ovr_GetMirrorTextureBufferVk ] ---
@@ -306,7 +315,8 @@ public class OVRVk {
             check(mirrorTexture);
             check(out_Image, 1);
         }
-        return novr_GetMirrorTextureBufferVk(session, mirrorTexture, memAddress(out_Image));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, novr_GetMirrorTextureBufferVk(session, mirrorTexture, memAddress(out_Image)));
     }
 
     /** Array version of: {@link #novr_GetInstanceExtensionsVk} */
@@ -319,7 +329,8 @@ public class OVRVk {
             check(inoutExtensionNamesSize, 1);
             check(extensionNames, inoutExtensionNamesSize[0]);
         }
-        return novr_GetInstanceExtensionsVk(luid.address(), memAddress(extensionNames), inoutExtensionNamesSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, novr_GetInstanceExtensionsVk(luid.address(), memAddress(extensionNames), inoutExtensionNamesSize));
     }
 
     /** Array version of: {@link #novr_GetDeviceExtensionsVk} */
@@ -332,7 +343,8 @@ public class OVRVk {
             check(inoutExtensionNamesSize, 1);
             check(extensionNames, inoutExtensionNamesSize[0]);
         }
-        return novr_GetDeviceExtensionsVk(luid.address(), memAddress(extensionNames), inoutExtensionNamesSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, novr_GetDeviceExtensionsVk(luid.address(), memAddress(extensionNames), inoutExtensionNamesSize));
     }
 
     /** Array version of: {@link #novr_GetTextureSwapChainBufferVk} */
@@ -346,7 +358,8 @@ public class OVRVk {
             check(chain);
             check(out_Image, 1);
         }
-        return novr_GetTextureSwapChainBufferVk(session, chain, index, out_Image);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, novr_GetTextureSwapChainBufferVk(session, chain, index, out_Image));
     }
 
     /** Array version of: {@link #novr_GetMirrorTextureBufferVk} */
@@ -360,7 +373,8 @@ public class OVRVk {
             check(mirrorTexture);
             check(out_Image, 1);
         }
-        return novr_GetMirrorTextureBufferVk(session, mirrorTexture, out_Image);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, novr_GetMirrorTextureBufferVk(session, mirrorTexture, out_Image));
     }
 
 }
\ No newline at end of file
@@ -177,6 +177,23 @@ public class ParSLAnnotation extends Struct {
         /** Returns the value of the {@code spine_to_edge_y} field. */
         public float spine_to_edge_y() { return ParSLAnnotation.nspine_to_edge_y(address()); }
 
+        /** Copies the {@code u_along_curve} field of the structs between the current position and limit to the specified array. */
+        public ParSLAnnotation.Buffer getU_along_curve(float[] dst) { gather(ParSLAnnotation.U_ALONG_CURVE, dst); return this; }
+        /** Copies the {@code u_along_curve} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLAnnotation.Buffer getU_along_curve(FloatBuffer dst) { gather(ParSLAnnotation.U_ALONG_CURVE, dst); return this; }
+        /** Copies the {@code v_across_curve} field of the structs between the current position and limit to the specified array. */
+        public ParSLAnnotation.Buffer getV_across_curve(float[] dst) { gather(ParSLAnnotation.V_ACROSS_CURVE, dst); return this; }
+        /** Copies the {@code v_across_curve} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLAnnotation.Buffer getV_across_curve(FloatBuffer dst) { gather(ParSLAnnotation.V_ACROSS_CURVE, dst); return this; }
+        /** Copies the {@code spine_to_edge_x} field of the structs between the current position and limit to the specified array. */
+        public ParSLAnnotation.Buffer getSpine_to_edge_x(float[] dst) { gather(ParSLAnnotation.SPINE_TO_EDGE_X, dst); return this; }
+        /** Copies the {@code spine_to_edge_x} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLAnnotation.Buffer getSpine_to_edge_x(FloatBuffer dst) { gather(ParSLAnnotation.SPINE_TO_EDGE_X, dst); return this; }
+        /** Copies the {@code spine_to_edge_y} field of the structs between the current position and limit to the specified array. */
+        public ParSLAnnotation.Buffer getSpine_to_edge_y(float[] dst) { gather(ParSLAnnotation.SPINE_TO_EDGE_Y, dst); return this; }
+        /** Copies the {@code spine_to_edge_y} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLAnnotation.Buffer getSpine_to_edge_y(FloatBuffer dst) { gather(ParSLAnnotation.SPINE_TO_EDGE_Y, dst); return this; }
+
     }
 
 }
\ No newline at end of file
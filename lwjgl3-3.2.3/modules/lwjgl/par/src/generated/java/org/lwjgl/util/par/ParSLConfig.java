@@ -263,6 +263,24 @@ public class ParSLConfig extends Struct implements NativeResource {
         return wrap(ParSLConfig.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ParSLConfig} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLConfig malloc(MemoryArena arena) {
+        return wrap(ParSLConfig.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ParSLConfig} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLConfig calloc(MemoryArena arena) {
+        return wrap(ParSLConfig.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ParSLConfig.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class ParSLConfig extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ParSLConfig.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLConfig.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ParSLConfig.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLConfig.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #thickness}. */
@@ -405,6 +443,56 @@ public class ParSLConfig extends Struct implements NativeResource {
         /** Sets the specified value to the {@code miter_limit} field. */
         public ParSLConfig.Buffer miter_limit(float value) { ParSLConfig.nmiter_limit(address(), value); return this; }
 
+        /** Copies the {@code thickness} field of the structs between the current position and limit to the specified array. */
+        public ParSLConfig.Buffer getThickness(float[] dst) { gather(ParSLConfig.THICKNESS, dst); return this; }
+        /** Copies the {@code thickness} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLConfig.Buffer getThickness(FloatBuffer dst) { gather(ParSLConfig.THICKNESS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public ParSLConfig.Buffer getFlags(int[] dst) { gather(ParSLConfig.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLConfig.Buffer getFlags(IntBuffer dst) { gather(ParSLConfig.FLAGS, dst); return this; }
+        /** Copies the {@code u_mode} field of the structs between the current position and limit to the specified array. */
+        public ParSLConfig.Buffer getU_mode(int[] dst) { gather(ParSLConfig.U_MODE, dst); return this; }
+        /** Copies the {@code u_mode} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLConfig.Buffer getU_mode(IntBuffer dst) { gather(ParSLConfig.U_MODE, dst); return this; }
+        /** Copies the {@code curves_max_flatness} field of the structs between the current position and limit to the specified array. */
+        public ParSLConfig.Buffer getCurves_max_flatness(float[] dst) { gather(ParSLConfig.CURVES_MAX_FLATNESS, dst); return this; }
+        /** Copies the {@code curves_max_flatness} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLConfig.Buffer getCurves_max_flatness(FloatBuffer dst) { gather(ParSLConfig.CURVES_MAX_FLATNESS, dst); return this; }
+        /** Copies the {@code streamlines_seed_spacing} field of the structs between the current position and limit to the specified array. */
+        public ParSLConfig.Buffer getStreamlines_seed_spacing(float[] dst) { gather(ParSLConfig.STREAMLINES_SEED_SPACING, dst); return this; }
+        /** Copies the {@code streamlines_seed_spacing} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLConfig.Buffer getStreamlines_seed_spacing(FloatBuffer dst) { gather(ParSLConfig.STREAMLINES_SEED_SPACING, dst); return this; }
+        /** Copies the {@code miter_limit} field of the structs between the current position and limit to the specified array. */
+        public ParSLConfig.Buffer getMiter_limit(float[] dst) { gather(ParSLConfig.MITER_LIMIT, dst); return this; }
+        /** Copies the {@code miter_limit} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLConfig.Buffer getMiter_limit(FloatBuffer dst) { gather(ParSLConfig.MITER_LIMIT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code thickness} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putThickness(float[] src) { scatter(ParSLConfig.THICKNESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code thickness} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putThickness(FloatBuffer src) { scatter(ParSLConfig.THICKNESS, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putFlags(int[] src) { scatter(ParSLConfig.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putFlags(IntBuffer src) { scatter(ParSLConfig.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code u_mode} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putU_mode(int[] src) { scatter(ParSLConfig.U_MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code u_mode} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putU_mode(IntBuffer src) { scatter(ParSLConfig.U_MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code curves_max_flatness} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putCurves_max_flatness(float[] src) { scatter(ParSLConfig.CURVES_MAX_FLATNESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code curves_max_flatness} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putCurves_max_flatness(FloatBuffer src) { scatter(ParSLConfig.CURVES_MAX_FLATNESS, src); return this; }
+        /** Copies the values in the specified array to the {@code streamlines_seed_spacing} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putStreamlines_seed_spacing(float[] src) { scatter(ParSLConfig.STREAMLINES_SEED_SPACING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code streamlines_seed_spacing} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putStreamlines_seed_spacing(FloatBuffer src) { scatter(ParSLConfig.STREAMLINES_SEED_SPACING, src); return this; }
+        /** Copies the values in the specified array to the {@code miter_limit} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putMiter_limit(float[] src) { scatter(ParSLConfig.MITER_LIMIT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code miter_limit} field of the structs between the current position and limit. */
+        public ParSLConfig.Buffer putMiter_limit(FloatBuffer src) { scatter(ParSLConfig.MITER_LIMIT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -229,6 +229,15 @@ public class ParSLMesh extends Struct {
         @NativeType("float *")
         public FloatBuffer random_offsets() { return ParSLMesh.nrandom_offsets(address()); }
 
+        /** Copies the {@code num_vertices} field of the structs between the current position and limit to the specified array. */
+        public ParSLMesh.Buffer getNum_vertices(int[] dst) { gather(ParSLMesh.NUM_VERTICES, dst); return this; }
+        /** Copies the {@code num_vertices} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLMesh.Buffer getNum_vertices(IntBuffer dst) { gather(ParSLMesh.NUM_VERTICES, dst); return this; }
+        /** Copies the {@code num_triangles} field of the structs between the current position and limit to the specified array. */
+        public ParSLMesh.Buffer getNum_triangles(int[] dst) { gather(ParSLMesh.NUM_TRIANGLES, dst); return this; }
+        /** Copies the {@code num_triangles} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLMesh.Buffer getNum_triangles(IntBuffer dst) { gather(ParSLMesh.NUM_TRIANGLES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -202,6 +202,24 @@ public class ParSLPosition extends Struct implements NativeResource {
         return wrap(ParSLPosition.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ParSLPosition} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLPosition malloc(MemoryArena arena) {
+        return wrap(ParSLPosition.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ParSLPosition} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLPosition calloc(MemoryArena arena) {
+        return wrap(ParSLPosition.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ParSLPosition.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class ParSLPosition extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ParSLPosition.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLPosition.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ParSLPosition.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLPosition.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -300,6 +338,24 @@ public class ParSLPosition extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public ParSLPosition.Buffer y(float value) { ParSLPosition.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public ParSLPosition.Buffer getX(float[] dst) { gather(ParSLPosition.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLPosition.Buffer getX(FloatBuffer dst) { gather(ParSLPosition.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public ParSLPosition.Buffer getY(float[] dst) { gather(ParSLPosition.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLPosition.Buffer getY(FloatBuffer dst) { gather(ParSLPosition.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public ParSLPosition.Buffer putX(float[] src) { scatter(ParSLPosition.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public ParSLPosition.Buffer putX(FloatBuffer src) { scatter(ParSLPosition.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public ParSLPosition.Buffer putY(float[] src) { scatter(ParSLPosition.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public ParSLPosition.Buffer putY(FloatBuffer src) { scatter(ParSLPosition.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
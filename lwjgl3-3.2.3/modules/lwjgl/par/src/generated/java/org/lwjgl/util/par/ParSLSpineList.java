@@ -230,6 +230,24 @@ public class ParSLSpineList extends Struct implements NativeResource {
         return wrap(ParSLSpineList.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ParSLSpineList} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLSpineList malloc(MemoryArena arena) {
+        return wrap(ParSLSpineList.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ParSLSpineList} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLSpineList calloc(MemoryArena arena) {
+        return wrap(ParSLSpineList.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ParSLSpineList.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class ParSLSpineList extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ParSLSpineList.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLSpineList.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ParSLSpineList.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLSpineList.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #num_vertices}. */
@@ -375,6 +413,15 @@ public class ParSLSpineList extends Struct implements NativeResource {
         /** Sets the specified value to the {@code closed} field. */
         public ParSLSpineList.Buffer closed(@NativeType("bool") boolean value) { ParSLSpineList.nclosed(address(), value); return this; }
 
+        /** Copies the {@code num_vertices} field of the structs between the current position and limit to the specified array. */
+        public ParSLSpineList.Buffer getNum_vertices(int[] dst) { gather(ParSLSpineList.NUM_VERTICES, dst); return this; }
+        /** Copies the {@code num_vertices} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLSpineList.Buffer getNum_vertices(IntBuffer dst) { gather(ParSLSpineList.NUM_VERTICES, dst); return this; }
+        /** Copies the {@code num_spines} field of the structs between the current position and limit to the specified array. */
+        public ParSLSpineList.Buffer getNum_spines(short[] dst) { gather(ParSLSpineList.NUM_SPINES, dst); return this; }
+        /** Copies the {@code num_spines} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLSpineList.Buffer getNum_spines(ShortBuffer dst) { gather(ParSLSpineList.NUM_SPINES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -222,6 +222,24 @@ public class ParSLViewport extends Struct implements NativeResource {
         return wrap(ParSLViewport.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ParSLViewport} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLViewport malloc(MemoryArena arena) {
+        return wrap(ParSLViewport.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ParSLViewport} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ParSLViewport calloc(MemoryArena arena) {
+        return wrap(ParSLViewport.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ParSLViewport.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class ParSLViewport extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ParSLViewport.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLViewport.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ParSLViewport.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ParSLViewport.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #left}. */
@@ -336,6 +374,40 @@ public class ParSLViewport extends Struct implements NativeResource {
         /** Sets the specified value to the {@code bottom} field. */
         public ParSLViewport.Buffer bottom(float value) { ParSLViewport.nbottom(address(), value); return this; }
 
+        /** Copies the {@code left} field of the structs between the current position and limit to the specified array. */
+        public ParSLViewport.Buffer getLeft(float[] dst) { gather(ParSLViewport.LEFT, dst); return this; }
+        /** Copies the {@code left} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLViewport.Buffer getLeft(FloatBuffer dst) { gather(ParSLViewport.LEFT, dst); return this; }
+        /** Copies the {@code top} field of the structs between the current position and limit to the specified array. */
+        public ParSLViewport.Buffer getTop(float[] dst) { gather(ParSLViewport.TOP, dst); return this; }
+        /** Copies the {@code top} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLViewport.Buffer getTop(FloatBuffer dst) { gather(ParSLViewport.TOP, dst); return this; }
+        /** Copies the {@code right} field of the structs between the current position and limit to the specified array. */
+        public ParSLViewport.Buffer getRight(float[] dst) { gather(ParSLViewport.RIGHT, dst); return this; }
+        /** Copies the {@code right} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLViewport.Buffer getRight(FloatBuffer dst) { gather(ParSLViewport.RIGHT, dst); return this; }
+        /** Copies the {@code bottom} field of the structs between the current position and limit to the specified array. */
+        public ParSLViewport.Buffer getBottom(float[] dst) { gather(ParSLViewport.BOTTOM, dst); return this; }
+        /** Copies the {@code bottom} field of the structs between the current position and limit to the specified buffer. */
+        public ParSLViewport.Buffer getBottom(FloatBuffer dst) { gather(ParSLViewport.BOTTOM, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code left} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putLeft(float[] src) { scatter(ParSLViewport.LEFT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code left} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putLeft(FloatBuffer src) { scatter(ParSLViewport.LEFT, src); return this; }
+        /** Copies the values in the specified array to the {@code top} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putTop(float[] src) { scatter(ParSLViewport.TOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code top} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putTop(FloatBuffer src) { scatter(ParSLViewport.TOP, src); return this; }
+        /** Copies the values in the specified array to the {@code right} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putRight(float[] src) { scatter(ParSLViewport.RIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code right} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putRight(FloatBuffer src) { scatter(ParSLViewport.RIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code bottom} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putBottom(float[] src) { scatter(ParSLViewport.BOTTOM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bottom} field of the structs between the current position and limit. */
+        public ParSLViewport.Buffer putBottom(FloatBuffer src) { scatter(ParSLViewport.BOTTOM, src); return this; }
+
     }
 
 }
\ No newline at end of file
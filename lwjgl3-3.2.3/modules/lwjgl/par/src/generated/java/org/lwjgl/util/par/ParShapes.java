@@ -39,6 +39,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class ParShapes {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ParShapes.class, "par_shapes_free_mesh,par_shapes_create_cylinder,par_shapes_create_cone,par_shapes_create_torus,par_shapes_create_parametric_sphere,par_shapes_create_subdivided_sphere,par_shapes_create_klein_bottle,par_shapes_create_trefoil_knot,par_shapes_create_hemisphere,par_shapes_create_plane,par_shapes_create_icosahedron,par_shapes_create_dodecahedron,par_shapes_create_octahedron,par_shapes_create_tetrahedron,par_shapes_create_cube,par_shapes_create_disk,par_shapes_create_empty,par_shapes_create_rock,par_shapes_create_lsystem,par_shapes_export,par_shapes_compute_aabb,par_shapes_clone,par_shapes_merge,par_shapes_translate,par_shapes_rotate,par_shapes_scale,par_shapes_merge_and_free,par_shapes_invert,par_shapes_remove_degenerate,par_shapes_unweld,par_shapes_weld,par_shapes_compute_normals");
+
     static { LibPar.initialize(); }
 
     protected ParShapes() {
@@ -56,7 +58,9 @@ public class ParShapes {
      * @param mesh the mesh to free
      */
     public static void par_shapes_free_mesh(@NativeType("par_shapes_mesh *") ParShapesMesh mesh) {
+        long __start = FunctionProfiler.start();
         npar_shapes_free_mesh(mesh.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ par_shapes_create_cylinder ] ---
@@ -74,7 +78,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_cylinder(int slices, int stacks) {
-        long __result = npar_shapes_create_cylinder(slices, stacks);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, npar_shapes_create_cylinder(slices, stacks));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -93,7 +98,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_cone(int slices, int stacks) {
-        long __result = npar_shapes_create_cone(slices, stacks);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, npar_shapes_create_cone(slices, stacks));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -112,7 +118,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_torus(int slices, int stacks, float radius) {
-        long __result = npar_shapes_create_torus(slices, stacks, radius);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, npar_shapes_create_torus(slices, stacks, radius));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -130,7 +137,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_parametric_sphere(int slices, int stacks) {
-        long __result = npar_shapes_create_parametric_sphere(slices, stacks);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, npar_shapes_create_parametric_sphere(slices, stacks));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -148,7 +156,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_subdivided_sphere(int nsubdivisions) {
-        long __result = npar_shapes_create_subdivided_sphere(nsubdivisions);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, npar_shapes_create_subdivided_sphere(nsubdivisions));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -166,7 +175,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_klein_bottle(int slices, int stacks) {
-        long __result = npar_shapes_create_klein_bottle(slices, stacks);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, npar_shapes_create_klein_bottle(slices, stacks));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -184,7 +194,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_trefoil_knot(int slices, int stacks, float radius) {
-        long __result = npar_shapes_create_trefoil_knot(slices, stacks, radius);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 7, __start, npar_shapes_create_trefoil_knot(slices, stacks, radius));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -202,7 +213,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_hemisphere(int slices, int stacks) {
-        long __result = npar_shapes_create_hemisphere(slices, stacks);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 8, __start, npar_shapes_create_hemisphere(slices, stacks));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -220,7 +232,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_plane(int slices, int stacks) {
-        long __result = npar_shapes_create_plane(slices, stacks);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 9, __start, npar_shapes_create_plane(slices, stacks));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -233,7 +246,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_icosahedron() {
-        long __result = npar_shapes_create_icosahedron();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, npar_shapes_create_icosahedron());
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -246,7 +260,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_dodecahedron() {
-        long __result = npar_shapes_create_dodecahedron();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 11, __start, npar_shapes_create_dodecahedron());
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -259,7 +274,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_octahedron() {
-        long __result = npar_shapes_create_octahedron();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 12, __start, npar_shapes_create_octahedron());
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -272,7 +288,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_tetrahedron() {
-        long __result = npar_shapes_create_tetrahedron();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 13, __start, npar_shapes_create_tetrahedron());
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -285,7 +302,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_cube() {
-        long __result = npar_shapes_create_cube();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 14, __start, npar_shapes_create_cube());
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -309,7 +327,8 @@ public class ParShapes {
             check(center, 3);
             check(normal, 3);
         }
-        long __result = npar_shapes_create_disk(radius, slices, memAddress(center), memAddress(normal));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 15, __start, npar_shapes_create_disk(radius, slices, memAddress(center), memAddress(normal)));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -322,7 +341,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_empty() {
-        long __result = npar_shapes_create_empty();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 16, __start, npar_shapes_create_empty());
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -341,7 +361,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_create_rock(int seed, int nsubdivisions) {
-        long __result = npar_shapes_create_rock(seed, nsubdivisions);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 17, __start, npar_shapes_create_rock(seed, nsubdivisions));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -365,7 +386,8 @@ public class ParShapes {
         if (CHECKS) {
             checkNT1(program);
         }
-        long __result = npar_shapes_create_lsystem(memAddress(program), slices, maxdepth);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 18, __start, npar_shapes_create_lsystem(memAddress(program), slices, maxdepth));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -385,7 +407,8 @@ public class ParShapes {
         try {
             stack.nASCII(program, true);
             long programEncoded = stack.getPointerAddress();
-            long __result = npar_shapes_create_lsystem(programEncoded, slices, maxdepth);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 18, __start, npar_shapes_create_lsystem(programEncoded, slices, maxdepth));
             return ParShapesMesh.createSafe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -407,7 +430,9 @@ public class ParShapes {
         if (CHECKS) {
             checkNT1(objfile);
         }
+        long __start = FunctionProfiler.start();
         npar_shapes_export(mesh.address(), memAddress(objfile));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /**
@@ -421,7 +446,9 @@ public class ParShapes {
         try {
             stack.nASCII(objfile, true);
             long objfileEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             npar_shapes_export(mesh.address(), objfileEncoded);
+            FunctionProfiler.end(PROFILE_ID + 19, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -442,7 +469,9 @@ public class ParShapes {
         if (CHECKS) {
             check(aabb, 6);
         }
+        long __start = FunctionProfiler.start();
         npar_shapes_compute_aabb(mesh.address(), memAddress(aabb));
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ par_shapes_clone ] ---
@@ -459,7 +488,8 @@ public class ParShapes {
     @Nullable
     @NativeType("par_shapes_mesh *")
     public static ParShapesMesh par_shapes_clone(@NativeType("par_shapes_mesh const *") ParShapesMesh mesh, @Nullable @NativeType("par_shapes_mesh *") ParShapesMesh target) {
-        long __result = npar_shapes_clone(mesh.address(), memAddressSafe(target));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 21, __start, npar_shapes_clone(mesh.address(), memAddressSafe(target)));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -475,7 +505,9 @@ public class ParShapes {
      * @param src the source mesh
      */
     public static void par_shapes_merge(@NativeType("par_shapes_mesh *") ParShapesMesh dst, @NativeType("par_shapes_mesh const *") ParShapesMesh src) {
+        long __start = FunctionProfiler.start();
         npar_shapes_merge(dst.address(), src.address());
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ par_shapes_translate ] ---
@@ -492,7 +524,9 @@ public class ParShapes {
      * @param z    the Z axis translation amount
      */
     public static void par_shapes_translate(@NativeType("par_shapes_mesh *") ParShapesMesh mesh, float x, float y, float z) {
+        long __start = FunctionProfiler.start();
         npar_shapes_translate(mesh.address(), x, y, z);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ par_shapes_rotate ] ---
@@ -511,7 +545,9 @@ public class ParShapes {
         if (CHECKS) {
             check(axis, 3);
         }
+        long __start = FunctionProfiler.start();
         npar_shapes_rotate(mesh.address(), radians, memAddress(axis));
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ par_shapes_scale ] ---
@@ -528,7 +564,9 @@ public class ParShapes {
      * @param z    the Z axis scale factor
      */
     public static void par_shapes_scale(@NativeType("par_shapes_mesh *") ParShapesMesh mesh, float x, float y, float z) {
+        long __start = FunctionProfiler.start();
         npar_shapes_scale(mesh.address(), x, y, z);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ par_shapes_merge_and_free ] ---
@@ -543,7 +581,9 @@ public class ParShapes {
      * @param src the source mesh
      */
     public static void par_shapes_merge_and_free(@NativeType("par_shapes_mesh *") ParShapesMesh dst, @NativeType("par_shapes_mesh *") ParShapesMesh src) {
+        long __start = FunctionProfiler.start();
         npar_shapes_merge_and_free(dst.address(), src.address());
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ par_shapes_invert ] ---
@@ -559,7 +599,9 @@ public class ParShapes {
      * @param nfaces    the number of faces to reverse
      */
     public static void par_shapes_invert(@NativeType("par_shapes_mesh *") ParShapesMesh mesh, int startface, int nfaces) {
+        long __start = FunctionProfiler.start();
         npar_shapes_invert(mesh.address(), startface, nfaces);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ par_shapes_remove_degenerate ] ---
@@ -574,7 +616,9 @@ public class ParShapes {
      * @param minarea triangles with an area below this value will be removed
      */
     public static void par_shapes_remove_degenerate(@NativeType("par_shapes_mesh *") ParShapesMesh mesh, float minarea) {
+        long __start = FunctionProfiler.start();
         npar_shapes_remove_degenerate(mesh.address(), minarea);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ par_shapes_unweld ] ---
@@ -592,7 +636,9 @@ public class ParShapes {
      * @param create_indices if an index buffer should be generated
      */
     public static void par_shapes_unweld(@NativeType("par_shapes_mesh *") ParShapesMesh mesh, @NativeType("bool") boolean create_indices) {
+        long __start = FunctionProfiler.start();
         npar_shapes_unweld(mesh.address(), create_indices);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ par_shapes_weld ] ---
@@ -613,7 +659,8 @@ public class ParShapes {
         if (CHECKS) {
             checkSafe(mapping, mesh.npoints());
         }
-        long __result = npar_shapes_weld(mesh.address(), epsilon, memAddressSafe(mapping));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 30, __start, npar_shapes_weld(mesh.address(), epsilon, memAddressSafe(mapping)));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -628,7 +675,9 @@ public class ParShapes {
      * @param mesh the mesh
      */
     public static void par_shapes_compute_normals(@NativeType("par_shapes_mesh *") ParShapesMesh mesh) {
+        long __start = FunctionProfiler.start();
         npar_shapes_compute_normals(mesh.address());
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /** Array version of: {@link #npar_shapes_create_disk} */
@@ -642,7 +691,8 @@ public class ParShapes {
             check(center, 3);
             check(normal, 3);
         }
-        long __result = npar_shapes_create_disk(radius, slices, center, normal);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 15, __start, npar_shapes_create_disk(radius, slices, center, normal));
         return ParShapesMesh.createSafe(__result);
     }
 
@@ -654,7 +704,9 @@ public class ParShapes {
         if (CHECKS) {
             check(aabb, 6);
         }
+        long __start = FunctionProfiler.start();
         npar_shapes_compute_aabb(mesh.address(), aabb);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /** Array version of: {@link #npar_shapes_rotate} */
@@ -665,7 +717,9 @@ public class ParShapes {
         if (CHECKS) {
             check(axis, 3);
         }
+        long __start = FunctionProfiler.start();
         npar_shapes_rotate(mesh.address(), radians, axis);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /** Array version of: {@link #npar_shapes_weld} */
@@ -678,7 +732,8 @@ public class ParShapes {
         if (CHECKS) {
             checkSafe(mapping, mesh.npoints());
         }
-        long __result = npar_shapes_weld(mesh.address(), epsilon, mapping);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 30, __start, npar_shapes_weld(mesh.address(), epsilon, mapping));
         return ParShapesMesh.createSafe(__result);
     }
 
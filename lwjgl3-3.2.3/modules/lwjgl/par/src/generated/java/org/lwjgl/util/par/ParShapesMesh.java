@@ -245,6 +245,15 @@ public class ParShapesMesh extends Struct {
         @NativeType("float *")
         public FloatBuffer tcoords(int capacity) { return ParShapesMesh.ntcoords(address(), capacity); }
 
+        /** Copies the {@code npoints} field of the structs between the current position and limit to the specified array. */
+        public ParShapesMesh.Buffer getNpoints(int[] dst) { gather(ParShapesMesh.NPOINTS, dst); return this; }
+        /** Copies the {@code npoints} field of the structs between the current position and limit to the specified buffer. */
+        public ParShapesMesh.Buffer getNpoints(IntBuffer dst) { gather(ParShapesMesh.NPOINTS, dst); return this; }
+        /** Copies the {@code ntriangles} field of the structs between the current position and limit to the specified array. */
+        public ParShapesMesh.Buffer getNtriangles(int[] dst) { gather(ParShapesMesh.NTRIANGLES, dst); return this; }
+        /** Copies the {@code ntriangles} field of the structs between the current position and limit to the specified buffer. */
+        public ParShapesMesh.Buffer getNtriangles(IntBuffer dst) { gather(ParShapesMesh.NTRIANGLES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
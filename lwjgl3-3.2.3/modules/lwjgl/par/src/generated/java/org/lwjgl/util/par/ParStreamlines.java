@@ -50,6 +50,8 @@ public class ParStreamlines {
     /** Draws control points */
     public static final int PARSL_FLAG_CURVE_GUIPARSL_FLAG_DES = 1 << 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ParStreamlines.class, "parsl_create_context,parsl_destroy_context,parsl_mesh_from_lines,parsl_mesh_from_streamlines,parsl_mesh_from_curves_cubic,parsl_mesh_from_curves_quadratic");
+
     static { LibPar.initialize(); }
 
     protected ParStreamlines() {
@@ -62,7 +64,8 @@ public class ParStreamlines {
 
     @NativeType("parsl_context *")
     public static long parsl_create_context(@NativeType("parsl_config") ParSLConfig config) {
-        return nparsl_create_context(config.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nparsl_create_context(config.address()));
     }
 
     // --- [ parsl_destroy_context ] ---
@@ -73,7 +76,9 @@ public class ParStreamlines {
         if (CHECKS) {
             check(ctx);
         }
+        long __start = FunctionProfiler.start();
         nparsl_destroy_context(ctx);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ parsl_mesh_from_lines ] ---
@@ -89,7 +94,8 @@ public class ParStreamlines {
             check(ctx);
             ParSLSpineList.validate(spines.address());
         }
-        long __result = nparsl_mesh_from_lines(ctx, spines.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, nparsl_mesh_from_lines(ctx, spines.address()));
         return ParSLMesh.createSafe(__result);
     }
 
@@ -106,7 +112,8 @@ public class ParStreamlines {
             check(context);
             check(userdata);
         }
-        long __result = nparsl_mesh_from_streamlines(context, advect.address(), first_tick, num_ticks, userdata);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, nparsl_mesh_from_streamlines(context, advect.address(), first_tick, num_ticks, userdata));
         return ParSLMesh.createSafe(__result);
     }
 
@@ -133,7 +140,8 @@ public class ParStreamlines {
             check(context);
             ParSLSpineList.validate(spines.address());
         }
-        long __result = nparsl_mesh_from_curves_cubic(context, spines.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nparsl_mesh_from_curves_cubic(context, spines.address()));
         return ParSLMesh.createSafe(__result);
     }
 
@@ -159,7 +167,8 @@ public class ParStreamlines {
             check(context);
             ParSLSpineList.validate(spines.address());
         }
-        long __result = nparsl_mesh_from_curves_quadratic(context, spines.address());
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nparsl_mesh_from_curves_quadratic(context, spines.address()));
         return ParSLMesh.createSafe(__result);
     }
 
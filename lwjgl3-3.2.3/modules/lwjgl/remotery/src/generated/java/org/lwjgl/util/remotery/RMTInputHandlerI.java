@@ -7,8 +7,6 @@ package org.lwjgl.util.remotery;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * <h3>Type</h3>
  * 
@@ -20,7 +18,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("rmtInputHandlerPtr")
-public interface RMTInputHandlerI extends CallbackI.P {
+public interface RMTInputHandlerI extends CallbackI.P_PP {
 
     String SIGNATURE = "(pp)p";
 
@@ -28,11 +26,8 @@ public interface RMTInputHandlerI extends CallbackI.P {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default long callback(long args) {
-        return invoke(
-            dcbArgPointer(args),
-            dcbArgPointer(args)
-        );
+    default long callback(long text, long context) {
+        return invoke(text, context);
     }
 
     @NativeType("void *") long invoke(@NativeType("char const *") long text, @NativeType("void *") long context);
@@ -310,6 +310,24 @@ public class RMTSettings extends Struct implements NativeResource {
         return wrap(RMTSettings.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RMTSettings} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RMTSettings malloc(MemoryArena arena) {
+        return wrap(RMTSettings.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RMTSettings} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RMTSettings calloc(MemoryArena arena) {
+        return wrap(RMTSettings.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #port}. */
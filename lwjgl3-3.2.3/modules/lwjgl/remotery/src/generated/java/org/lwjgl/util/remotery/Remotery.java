@@ -150,6 +150,8 @@ public class Remotery {
         RMTSF_Aggregate = 1,
         RMTSF_Recursive = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Remotery.class, "rmt_Settings,rmt_CreateGlobalInstance,rmt_DestroyGlobalInstance,rmt_SetGlobalInstance,rmt_SetCurrentThreadName,rmt_LogText,rmt_BeginCPUSample");
+
     static { LibRemotery.initialize(); }
 
     protected Remotery() {
@@ -163,7 +165,8 @@ public class Remotery {
     @Nullable
     @NativeType("rmtSettings *")
     public static RMTSettings rmt_Settings() {
-        long __result = nrmt_Settings();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nrmt_Settings());
         return RMTSettings.createSafe(__result);
     }
 
@@ -176,7 +179,8 @@ public class Remotery {
         if (CHECKS) {
             check(remotery, 1);
         }
-        return nrmt_CreateGlobalInstance(memAddress(remotery));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nrmt_CreateGlobalInstance(memAddress(remotery)));
     }
 
     // --- [ rmt_DestroyGlobalInstance ] ---
@@ -187,7 +191,9 @@ public class Remotery {
         if (CHECKS) {
             check(remotery);
         }
+        long __start = FunctionProfiler.start();
         nrmt_DestroyGlobalInstance(remotery);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ rmt_SetGlobalInstance ] ---
@@ -198,7 +204,9 @@ public class Remotery {
         if (CHECKS) {
             check(remotery);
         }
+        long __start = FunctionProfiler.start();
         nrmt_SetGlobalInstance(remotery);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ rmt_GetGlobalInstance ] ---
@@ -214,7 +222,9 @@ public class Remotery {
         if (CHECKS) {
             checkNT1(thread_name);
         }
+        long __start = FunctionProfiler.start();
         nrmt_SetCurrentThreadName(memAddress(thread_name));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     public static void rmt_SetCurrentThreadName(@NativeType("rmtPStr") CharSequence thread_name) {
@@ -222,7 +232,9 @@ public class Remotery {
         try {
             stack.nASCII(thread_name, true);
             long thread_nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nrmt_SetCurrentThreadName(thread_nameEncoded);
+            FunctionProfiler.end(PROFILE_ID + 4, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -236,7 +248,9 @@ public class Remotery {
         if (CHECKS) {
             checkNT1(text);
         }
+        long __start = FunctionProfiler.start();
         nrmt_LogText(memAddress(text));
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     public static void rmt_LogText(@NativeType("rmtPStr") CharSequence text) {
@@ -244,7 +258,9 @@ public class Remotery {
         try {
             stack.nASCII(text, true);
             long textEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nrmt_LogText(textEncoded);
+            FunctionProfiler.end(PROFILE_ID + 5, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -261,7 +277,9 @@ public class Remotery {
             checkNT1(name);
             checkSafe(hash_cache, 1);
         }
+        long __start = FunctionProfiler.start();
         nrmt_BeginCPUSample(memAddress(name), flags, memAddressSafe(hash_cache));
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /** @param flags one of:<br><table><tr><td>{@link #RMTSF_None}</td><td>{@link #RMTSF_Aggregate}</td><td>{@link #RMTSF_Recursive}</td></tr></table> */
@@ -273,7 +291,9 @@ public class Remotery {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nrmt_BeginCPUSample(nameEncoded, flags, memAddressSafe(hash_cache));
+            FunctionProfiler.end(PROFILE_ID + 6, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
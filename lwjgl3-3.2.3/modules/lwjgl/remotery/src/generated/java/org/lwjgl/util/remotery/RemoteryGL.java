@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Remotery profiling for OpenGL. */
 public class RemoteryGL {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(RemoteryGL.class, "rmt_BeginOpenGLSample");
+
     static { LibRemotery.initialize(); }
 
     protected RemoteryGL() {
@@ -41,7 +43,9 @@ public class RemoteryGL {
             checkNT1(name);
             checkSafe(hash_cache, 1);
         }
+        long __start = FunctionProfiler.start();
         nrmt_BeginOpenGLSample(memAddress(name), memAddressSafe(hash_cache));
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     public static void rmt_BeginOpenGLSample(@NativeType("rmtPStr") CharSequence name, @Nullable @NativeType("rmtU32 *") IntBuffer hash_cache) {
@@ -52,7 +56,9 @@ public class RemoteryGL {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nrmt_BeginOpenGLSample(nameEncoded, memAddressSafe(hash_cache));
+            FunctionProfiler.end(PROFILE_ID, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
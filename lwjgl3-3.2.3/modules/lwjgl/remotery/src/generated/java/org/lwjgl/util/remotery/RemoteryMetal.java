@@ -18,6 +18,8 @@ import static org.lwjgl.system.MemoryUtil.*;
 /** Remotery profiling for OpenGL. */
 public class RemoteryMetal {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(RemoteryMetal.class, "rmt_BindMetal,rmt_BeginMetalSample");
+
     static { LibRemotery.initialize(); }
 
     protected RemoteryMetal() {
@@ -32,7 +34,9 @@ public class RemoteryMetal {
         if (CHECKS) {
             check(command_buffer);
         }
+        long __start = FunctionProfiler.start();
         nrmt_BindMetal(command_buffer);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ rmt_UnbindMetal ] ---
@@ -48,7 +52,9 @@ public class RemoteryMetal {
             checkNT1(name);
             checkSafe(hash_cache, 1);
         }
+        long __start = FunctionProfiler.start();
         nrmt_BeginMetalSample(memAddress(name), memAddressSafe(hash_cache));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     public static void rmt_BeginMetalSample(@NativeType("rmtPStr") CharSequence name, @Nullable @NativeType("rmtU32 *") IntBuffer hash_cache) {
@@ -59,7 +65,9 @@ public class RemoteryMetal {
         try {
             stack.nASCII(name, true);
             long nameEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nrmt_BeginMetalSample(nameEncoded, memAddressSafe(hash_cache));
+            FunctionProfiler.end(PROFILE_ID + 1, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -248,6 +248,24 @@ public class RPMallocConfig extends Struct implements NativeResource {
         return wrap(RPMallocConfig.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RPMallocConfig} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RPMallocConfig malloc(MemoryArena arena) {
+        return wrap(RPMallocConfig.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RPMallocConfig} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RPMallocConfig calloc(MemoryArena arena) {
+        return wrap(RPMallocConfig.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #memory_map}. */
@@ -7,8 +7,6 @@ package org.lwjgl.system.rpmalloc;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * Instances of this interface may be set to the {@link RPMallocConfig} struct.
  * 
@@ -22,7 +20,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("void * (*) (size_t, size_t *)")
-public interface RPMemoryMapCallbackI extends CallbackI.P {
+public interface RPMemoryMapCallbackI extends CallbackI.P_PP {
 
     String SIGNATURE = "(pp)p";
 
@@ -30,11 +28,8 @@ public interface RPMemoryMapCallbackI extends CallbackI.P {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default long callback(long args) {
-        return invoke(
-            dcbArgPointer(args),
-            dcbArgPointer(args)
-        );
+    default long callback(long size, long offset) {
+        return invoke(size, offset);
     }
 
     /**
@@ -40,6 +40,8 @@ public class RPmalloc {
     /** Flag to {@link #rpaligned_realloc aligned_realloc} to not preserve content in reallocation. */
     public static final int RPMALLOC_NO_PRESERVE = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(RPmalloc.class, "rpmalloc_initialize,rpmalloc_initialize_config,rpmalloc_config,rpmalloc_is_thread_initialized,rpmalloc_thread_statistics,rpmalloc_global_statistics,rpmalloc,rpfree,rpcalloc,rprealloc,rpaligned_realloc,rpaligned_alloc,rpmemalign,rpposix_memalign,rpmalloc_usable_size");
+
     static { LibRPmalloc.initialize(); }
 
     protected RPmalloc() {
@@ -84,7 +86,8 @@ public class RPmalloc {
     /** Initializes allocator with default configuration. */
     @NativeType("int")
     public static boolean rpmalloc_initialize() {
-        return nrpmalloc_initialize() != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nrpmalloc_initialize()) != 0;
     }
 
     // --- [ rpmalloc_initialize_config ] ---
@@ -99,7 +102,8 @@ public class RPmalloc {
      */
     @NativeType("int")
     public static boolean rpmalloc_initialize_config(@Nullable @NativeType("rpmalloc_config_t const *") RPMallocConfig config) {
-        return nrpmalloc_initialize_config(memAddressSafe(config)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nrpmalloc_initialize_config(memAddressSafe(config))) != 0;
     }
 
     // --- [ rpmalloc_config ] ---
@@ -110,7 +114,8 @@ public class RPmalloc {
     /** Gets allocator configuration. */
     @NativeType("rpmalloc_config_t const *")
     public static RPMallocConfig rpmalloc_config() {
-        long __result = nrpmalloc_config();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, nrpmalloc_config());
         return RPMallocConfig.create(__result);
     }
 
@@ -142,7 +147,8 @@ public class RPmalloc {
     /** Query if allocator is initialized for calling thread. */
     @NativeType("int")
     public static boolean rpmalloc_is_thread_initialized() {
-        return nrpmalloc_is_thread_initialized() != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nrpmalloc_is_thread_initialized()) != 0;
     }
 
     // --- [ rpmalloc_thread_statistics ] ---
@@ -152,7 +158,9 @@ public class RPmalloc {
 
     /** Gets per-thread statistics. */
     public static void rpmalloc_thread_statistics(@NativeType("rpmalloc_thread_statistics_t *") RPmallocThreadStatistics stats) {
+        long __start = FunctionProfiler.start();
         nrpmalloc_thread_statistics(stats.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ rpmalloc_global_statistics ] ---
@@ -162,7 +170,9 @@ public class RPmalloc {
 
     /** Gets global statistics. */
     public static void rpmalloc_global_statistics(@NativeType("rpmalloc_global_statistics_t *") RPmallocGlobalStatistics stats) {
+        long __start = FunctionProfiler.start();
         nrpmalloc_global_statistics(stats.address());
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ rpmalloc ] ---
@@ -174,7 +184,8 @@ public class RPmalloc {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer rpmalloc(@NativeType("size_t") long size) {
-        long __result = nrpmalloc(size);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, nrpmalloc(size));
         return memByteBufferSafe(__result, (int)size);
     }
 
@@ -185,37 +196,51 @@ public class RPmalloc {
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") ByteBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") ShortBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") IntBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") LongBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") FloatBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") DoubleBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Frees the given memory block. */
     public static void rpfree(@Nullable @NativeType("void *") PointerBuffer ptr) {
+        long __start = FunctionProfiler.start();
         nrpfree(memAddressSafe(ptr));
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ rpcalloc ] ---
@@ -227,7 +252,8 @@ public class RPmalloc {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer rpcalloc(@NativeType("size_t") long num, @NativeType("size_t") long size) {
-        long __result = nrpcalloc(num, size);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nrpcalloc(num, size));
         return memByteBufferSafe(__result, (int)num * (int)size);
     }
 
@@ -240,7 +266,8 @@ public class RPmalloc {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer rprealloc(@Nullable @NativeType("void *") ByteBuffer ptr, @NativeType("size_t") long size) {
-        long __result = nrprealloc(memAddressSafe(ptr), size);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 9, __start, nrprealloc(memAddressSafe(ptr), size));
         return memByteBufferSafe(__result, (int)size);
     }
 
@@ -258,7 +285,8 @@ public class RPmalloc {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer rpaligned_realloc(@Nullable @NativeType("void *") ByteBuffer ptr, @NativeType("size_t") long alignment, @NativeType("size_t") long size, @NativeType("unsigned int") int flags) {
-        long __result = nrpaligned_realloc(memAddressSafe(ptr), alignment, size, remainingSafe(ptr), flags);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, nrpaligned_realloc(memAddressSafe(ptr), alignment, size, remainingSafe(ptr), flags));
         return memByteBufferSafe(__result, (int)size);
     }
 
@@ -276,7 +304,8 @@ public class RPmalloc {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer rpaligned_alloc(@NativeType("size_t") long alignment, @NativeType("size_t") long size) {
-        long __result = nrpaligned_alloc(alignment, size);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 11, __start, nrpaligned_alloc(alignment, size));
         return memByteBufferSafe(__result, (int)size);
     }
 
@@ -294,7 +323,8 @@ public class RPmalloc {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer rpmemalign(@NativeType("size_t") long alignment, @NativeType("size_t") long size) {
-        long __result = nrpmemalign(alignment, size);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 12, __start, nrpmemalign(alignment, size));
         return memByteBufferSafe(__result, (int)size);
     }
 
@@ -313,7 +343,8 @@ public class RPmalloc {
         if (CHECKS) {
             check(memptr, 1);
         }
-        return nrpposix_memalign(memAddress(memptr), alignment, size);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nrpposix_memalign(memAddress(memptr), alignment, size));
     }
 
     // --- [ rpmalloc_usable_size ] ---
@@ -324,43 +355,50 @@ public class RPmalloc {
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") ByteBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") ShortBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") IntBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") LongBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") FloatBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") DoubleBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
     /** Queries the usable size of the given memory block (from given pointer to the end of block). */
     @NativeType("size_t")
     public static long rpmalloc_usable_size(@NativeType("void *") PointerBuffer ptr) {
-        return nrpmalloc_usable_size(memAddress(ptr));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nrpmalloc_usable_size(memAddress(ptr)));
     }
 
 }
\ No newline at end of file
@@ -66,4 +66,9 @@ public class RPmallocAllocator implements MemoryAllocator {
         nrpfree(ptr);
     }
 
+    @Override
+    public long usable_size(long ptr) {
+        return nrpmalloc_usable_size(ptr);
+    }
+
 }
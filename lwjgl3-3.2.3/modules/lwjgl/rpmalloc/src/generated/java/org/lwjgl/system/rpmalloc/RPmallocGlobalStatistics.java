@@ -225,6 +225,24 @@ public class RPmallocGlobalStatistics extends Struct implements NativeResource {
         return wrap(RPmallocGlobalStatistics.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code RPmallocGlobalStatistics} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RPmallocGlobalStatistics malloc(MemoryArena arena) {
+        return wrap(RPmallocGlobalStatistics.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code RPmallocGlobalStatistics} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static RPmallocGlobalStatistics calloc(MemoryArena arena) {
+        return wrap(RPmallocGlobalStatistics.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link RPmallocGlobalStatistics.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -263,6 +281,26 @@ public class RPmallocGlobalStatistics extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link RPmallocGlobalStatistics.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RPmallocGlobalStatistics.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link RPmallocGlobalStatistics.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static RPmallocGlobalStatistics.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mapped}. */
@@ -74,6 +74,11 @@ fun config() {
         nrpfree(ptr);
     }
 
+    @Override
+    public long usable_size(long ptr) {
+        return nrpmalloc_usable_size(ptr);
+    }
+
 }""")
         }
     })
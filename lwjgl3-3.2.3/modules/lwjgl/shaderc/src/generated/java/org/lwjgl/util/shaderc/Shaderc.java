@@ -489,6 +489,8 @@ public class Shaderc {
         shaderc_include_type_relative = 0,
         shaderc_include_type_standard = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Shaderc.class, "shaderc_compiler_initialize,shaderc_compiler_release,shaderc_compile_options_initialize,shaderc_compile_options_clone,shaderc_compile_options_release,shaderc_compile_options_add_macro_definition,shaderc_compile_options_set_source_language,shaderc_compile_options_set_generate_debug_info,shaderc_compile_options_set_optimization_level,shaderc_compile_options_set_forced_version_profile,shaderc_compile_options_set_include_callbacks,shaderc_compile_options_set_suppress_warnings,shaderc_compile_options_set_target_env,shaderc_compile_options_set_target_spirv,shaderc_compile_options_set_warnings_as_errors,shaderc_compile_options_set_limit,shaderc_compile_options_set_auto_bind_uniforms,shaderc_compile_options_set_hlsl_io_mapping,shaderc_compile_options_set_hlsl_offsets,shaderc_compile_options_set_binding_base,shaderc_compile_options_set_binding_base_for_stage,shaderc_compile_options_set_auto_map_locations,shaderc_compile_options_set_hlsl_register_set_and_binding_for_stage,shaderc_compile_options_set_hlsl_register_set_and_binding,shaderc_compile_options_set_hlsl_functionality1,shaderc_compile_options_set_invert_y,shaderc_compile_options_set_nan_clamp,shaderc_compile_into_spv,shaderc_compile_into_spv_assembly,shaderc_compile_into_preprocessed_text,shaderc_assemble_into_spv,shaderc_result_release,shaderc_result_get_length,shaderc_result_get_num_warnings,shaderc_result_get_num_errors,shaderc_result_get_compilation_status,shaderc_result_get_bytes,shaderc_result_get_error_message,shaderc_get_spv_version,shaderc_parse_version_profile");
+
     protected Shaderc() {
         throw new UnsupportedOperationException();
     }
@@ -563,7 +565,8 @@ public class Shaderc {
     @NativeType("shaderc_compiler_t")
     public static long shaderc_compiler_initialize() {
         long __functionAddress = Functions.compiler_initialize;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ shaderc_compiler_release ] ---
@@ -578,7 +581,9 @@ public class Shaderc {
         if (CHECKS) {
             check(compiler);
         }
+        long __start = FunctionProfiler.start();
         invokePV(compiler, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ shaderc_compile_options_initialize ] ---
@@ -592,7 +597,8 @@ public class Shaderc {
     @NativeType("shaderc_compile_options_t")
     public static long shaderc_compile_options_initialize() {
         long __functionAddress = Functions.compile_options_initialize;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokeP(__functionAddress));
     }
 
     // --- [ shaderc_compile_options_clone ] ---
@@ -605,7 +611,8 @@ public class Shaderc {
     @NativeType("shaderc_compile_options_t")
     public static long shaderc_compile_options_clone(@NativeType("shaderc_compile_options_t const") long options) {
         long __functionAddress = Functions.compile_options_clone;
-        return invokePP(options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(options, __functionAddress));
     }
 
     // --- [ shaderc_compile_options_release ] ---
@@ -618,7 +625,9 @@ public class Shaderc {
      */
     public static void shaderc_compile_options_release(@NativeType("shaderc_compile_options_t") long options) {
         long __functionAddress = Functions.compile_options_release;
+        long __start = FunctionProfiler.start();
         invokePV(options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ shaderc_compile_options_add_macro_definition ] ---
@@ -629,7 +638,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPPV(options, name, name_length, value, value_length, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -679,7 +690,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, lang, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ shaderc_compile_options_set_generate_debug_info ] ---
@@ -690,7 +703,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ shaderc_compile_options_set_optimization_level ] ---
@@ -705,7 +720,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, level, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ shaderc_compile_options_set_forced_version_profile ] ---
@@ -722,7 +739,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, version, profile, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ shaderc_compile_options_set_include_callbacks ] ---
@@ -733,7 +752,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPV(options, resolver, result_releaser, user_data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /** Sets includer callback functions. */
@@ -753,7 +774,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ shaderc_compile_options_set_target_env ] ---
@@ -770,7 +793,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, target, version, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ shaderc_compile_options_set_target_spirv ] ---
@@ -787,7 +812,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, version, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ shaderc_compile_options_set_warnings_as_errors ] ---
@@ -803,7 +830,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ shaderc_compile_options_set_limit ] ---
@@ -814,7 +843,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, limit, value, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ shaderc_compile_options_set_auto_bind_uniforms ] ---
@@ -825,7 +856,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, auto_bind, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ shaderc_compile_options_set_hlsl_io_mapping ] ---
@@ -840,7 +873,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, hlsl_iomap, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ shaderc_compile_options_set_hlsl_offsets ] ---
@@ -855,7 +890,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, hlsl_offsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ shaderc_compile_options_set_binding_base ] ---
@@ -871,7 +908,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, kind, base, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ shaderc_compile_options_set_binding_base_for_stage ] ---
@@ -886,7 +925,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, shader_kind, kind, base, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ shaderc_compile_options_set_auto_map_locations ] ---
@@ -897,7 +938,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, auto_map, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ shaderc_compile_options_set_hlsl_register_set_and_binding_for_stage ] ---
@@ -908,7 +951,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPV(options, shader_kind, reg, set, binding, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Sets a descriptor set and binding for an HLSL register in the given stage. This method keeps a copy of the string data. */
@@ -945,7 +990,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePPPPV(options, reg, set, binding, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     /** Like {@link #shaderc_compile_options_set_hlsl_register_set_and_binding_for_stage compile_options_set_hlsl_register_set_and_binding_for_stage}, but affects all shader stages. */
@@ -982,7 +1029,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, enable, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ shaderc_compile_options_set_invert_y ] ---
@@ -993,7 +1042,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, enable, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ shaderc_compile_options_set_nan_clamp ] ---
@@ -1009,7 +1060,9 @@ public class Shaderc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, enable, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ shaderc_compile_into_spv ] ---
@@ -1020,7 +1073,8 @@ public class Shaderc {
         if (CHECKS) {
             check(compiler);
         }
-        return invokePPPPPPP(compiler, source_text, source_text_size, shader_kind, input_file_name, entry_point_name, additional_options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, invokePPPPPPP(compiler, source_text, source_text_size, shader_kind, input_file_name, entry_point_name, additional_options, __functionAddress));
     }
 
     /**
@@ -1080,7 +1134,8 @@ public class Shaderc {
         if (CHECKS) {
             check(compiler);
         }
-        return invokePPPPPPP(compiler, source_text, source_text_size, shader_kind, input_file_name, entry_point_name, additional_options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, invokePPPPPPP(compiler, source_text, source_text_size, shader_kind, input_file_name, entry_point_name, additional_options, __functionAddress));
     }
 
     /**
@@ -1126,7 +1181,8 @@ public class Shaderc {
         if (CHECKS) {
             check(compiler);
         }
-        return invokePPPPPPP(compiler, source_text, source_text_size, shader_kind, input_file_name, entry_point_name, additional_options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, invokePPPPPPP(compiler, source_text, source_text_size, shader_kind, input_file_name, entry_point_name, additional_options, __functionAddress));
     }
 
     /** Like {@link #shaderc_compile_into_spv compile_into_spv}, but the result contains preprocessed source code instead of a SPIR-V binary module */
@@ -1164,7 +1220,8 @@ public class Shaderc {
         if (CHECKS) {
             check(compiler);
         }
-        return invokePPPPP(compiler, source_assembly, source_assembly_size, additional_options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, invokePPPPP(compiler, source_assembly, source_assembly_size, additional_options, __functionAddress));
     }
 
     /**
@@ -1208,7 +1265,9 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
+        long __start = FunctionProfiler.start();
         invokePV(result, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ shaderc_result_get_length ] ---
@@ -1220,7 +1279,8 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, invokePP(result, __functionAddress));
     }
 
     // --- [ shaderc_result_get_num_warnings ] ---
@@ -1232,7 +1292,8 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePP(result, __functionAddress));
     }
 
     // --- [ shaderc_result_get_num_errors ] ---
@@ -1244,7 +1305,8 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, invokePP(result, __functionAddress));
     }
 
     // --- [ shaderc_result_get_compilation_status ] ---
@@ -1259,7 +1321,8 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
-        return invokePI(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePI(result, __functionAddress));
     }
 
     // --- [ shaderc_result_get_bytes ] ---
@@ -1270,7 +1333,8 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, invokePP(result, __functionAddress));
     }
 
     /**
@@ -1307,7 +1371,8 @@ public class Shaderc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, invokePP(result, __functionAddress));
     }
 
     /** Returns a null-terminated string that contains any error messages generated during the compilation. */
@@ -1323,7 +1388,9 @@ public class Shaderc {
     /** Unsafe version of: {@link #shaderc_get_spv_version get_spv_version} */
     public static void nshaderc_get_spv_version(long version, long revision) {
         long __functionAddress = Functions.get_spv_version;
+        long __start = FunctionProfiler.start();
         invokePPV(version, revision, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** Provides the version and revision of the SPIR-V which will be produced */
@@ -1340,7 +1407,8 @@ public class Shaderc {
     /** Unsafe version of: {@link #shaderc_parse_version_profile parse_version_profile} */
     public static boolean nshaderc_parse_version_profile(long str, long version, long profile) {
         long __functionAddress = Functions.parse_version_profile;
-        return invokePPPZ(str, version, profile, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, invokePPPZ(str, version, profile, __functionAddress));
     }
 
     /**
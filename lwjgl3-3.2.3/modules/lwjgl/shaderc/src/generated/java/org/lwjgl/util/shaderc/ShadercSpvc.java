@@ -32,6 +32,8 @@ public class ShadercSpvc {
         shaderc_spvc_msl_platform_ios   = 0,
         shaderc_spvc_msl_platform_macos = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ShadercSpvc.class, "shaderc_spvc_compiler_initialize,shaderc_spvc_compiler_release,shaderc_spvc_compile_options_initialize,shaderc_spvc_compile_options_clone,shaderc_spvc_compile_options_release,shaderc_spvc_compile_options_set_entry_point,shaderc_spvc_compile_options_set_remove_unused_variables,shaderc_spvc_compile_options_set_robust_buffer_access_pass,shaderc_spvc_compile_options_set_source_env,shaderc_spvc_compile_options_set_target_env,shaderc_spvc_compile_options_set_vulkan_semantics,shaderc_spvc_compile_options_set_separate_shader_objects,shaderc_spvc_compile_options_set_flatten_ubo,shaderc_spvc_compile_options_set_glsl_language_version,shaderc_spvc_compile_options_set_flatten_multidimensional_arrays,shaderc_spvc_compile_options_set_es,shaderc_spvc_compile_options_set_glsl_emit_push_constant_as_ubo,shaderc_spvc_compile_options_set_msl_language_version,shaderc_spvc_compile_options_set_msl_swizzle_texture_samples,shaderc_spvc_compile_options_set_msl_platform,shaderc_spvc_compile_options_set_msl_pad_fragment_output,shaderc_spvc_compile_options_set_msl_capture,shaderc_spvc_compile_options_set_msl_domain_lower_left,shaderc_spvc_compile_options_set_msl_argument_buffers,shaderc_spvc_compile_options_set_msl_discrete_descriptor_sets,shaderc_spvc_compile_options_set_hlsl_shader_model,shaderc_spvc_compile_options_set_hlsl_point_size_compat,shaderc_spvc_compile_options_set_hlsl_point_coord_compat,shaderc_spvc_compile_options_set_fixup_clipspace,shaderc_spvc_compile_options_set_flip_vert_y,shaderc_spvc_compile_options_set_validate,shaderc_spvc_compile_options_set_for_fuzzing,shaderc_spvc_compile_into_glsl,shaderc_spvc_compile_into_hlsl,shaderc_spvc_compile_into_msl,shaderc_spvc_compile_into_vulkan,shaderc_spvc_result_release,shaderc_spvc_result_get_status,shaderc_spvc_result_get_messages,shaderc_spvc_result_get_string_output,shaderc_spvc_result_get_binary_output,shaderc_spvc_result_get_binary_length");
+
     protected ShadercSpvc() {
         throw new UnsupportedOperationException();
     }
@@ -106,7 +108,8 @@ public class ShadercSpvc {
     @NativeType("shaderc_spvc_compiler_t")
     public static long shaderc_spvc_compiler_initialize() {
         long __functionAddress = Functions.compiler_initialize;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, invokeP(__functionAddress));
     }
 
     // --- [ shaderc_spvc_compiler_release ] ---
@@ -121,7 +124,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(compiler);
         }
+        long __start = FunctionProfiler.start();
         invokePV(compiler, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_initialize ] ---
@@ -135,7 +140,8 @@ public class ShadercSpvc {
     @NativeType("shaderc_spvc_compile_options_t")
     public static long shaderc_spvc_compile_options_initialize() {
         long __functionAddress = Functions.compile_options_initialize;
-        return invokeP(__functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, invokeP(__functionAddress));
     }
 
     // --- [ shaderc_spvc_compile_options_clone ] ---
@@ -148,7 +154,8 @@ public class ShadercSpvc {
     @NativeType("shaderc_spvc_compile_options_t")
     public static long shaderc_spvc_compile_options_clone(@NativeType("shaderc_spvc_compile_options_t const") long options) {
         long __functionAddress = Functions.compile_options_clone;
-        return invokePP(options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, invokePP(options, __functionAddress));
     }
 
     // --- [ shaderc_spvc_compile_options_release ] ---
@@ -160,7 +167,9 @@ public class ShadercSpvc {
      */
     public static void shaderc_spvc_compile_options_release(@NativeType("shaderc_spvc_compile_options_t") long options) {
         long __functionAddress = Functions.compile_options_release;
+        long __start = FunctionProfiler.start();
         invokePV(options, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_entry_point ] ---
@@ -171,7 +180,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePPV(options, entry_point, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Sets the entry point. */
@@ -202,7 +213,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_robust_buffer_access_pass ] ---
@@ -218,7 +231,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_source_env ] ---
@@ -233,7 +248,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, env, version, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_target_env ] ---
@@ -249,7 +266,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, env, version, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_vulkan_semantics ] ---
@@ -260,7 +279,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_separate_shader_objects ] ---
@@ -275,7 +296,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_flatten_ubo ] ---
@@ -286,7 +309,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_glsl_language_version ] ---
@@ -301,7 +326,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, version, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_flatten_multidimensional_arrays ] ---
@@ -312,7 +339,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_es ] ---
@@ -323,7 +352,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_glsl_emit_push_constant_as_ubo ] ---
@@ -334,7 +365,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_language_version ] ---
@@ -349,7 +382,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, version, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_swizzle_texture_samples ] ---
@@ -360,7 +395,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_platform ] ---
@@ -371,7 +408,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, platform, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_pad_fragment_output ] ---
@@ -382,7 +421,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_capture ] ---
@@ -393,7 +434,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_domain_lower_left ] ---
@@ -404,7 +447,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_argument_buffers ] ---
@@ -415,7 +460,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_msl_discrete_descriptor_sets ] ---
@@ -426,7 +473,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePPPV(options, descriptors, num_descriptors, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -449,7 +498,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, model, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_hlsl_point_size_compat ] ---
@@ -460,7 +511,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_hlsl_point_coord_compat ] ---
@@ -471,7 +524,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_fixup_clipspace ] ---
@@ -490,7 +545,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 28, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_flip_vert_y ] ---
@@ -505,7 +562,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_validate ] ---
@@ -516,7 +575,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
+        long __start = FunctionProfiler.start();
         invokePV(options, b, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ shaderc_spvc_compile_options_set_for_fuzzing ] ---
@@ -527,7 +588,8 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(options);
         }
-        return invokePPPP(options, data, size, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, invokePPPP(options, data, size, __functionAddress));
     }
 
     /**
@@ -549,7 +611,8 @@ public class ShadercSpvc {
             check(compiler);
             check(options);
         }
-        return invokePPPPP(compiler, source, source_len, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, invokePPPPP(compiler, source, source_len, options, __functionAddress));
     }
 
     /** Takes SPIR-V as a sequence of 32-bit words, validates it, then compiles to GLSL. */
@@ -567,7 +630,8 @@ public class ShadercSpvc {
             check(compiler);
             check(options);
         }
-        return invokePPPPP(compiler, source, source_len, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, invokePPPPP(compiler, source, source_len, options, __functionAddress));
     }
 
     /** Takes SPIR-V as a sequence of 32-bit words, validates it, then compiles to HLSL. */
@@ -585,7 +649,8 @@ public class ShadercSpvc {
             check(compiler);
             check(options);
         }
-        return invokePPPPP(compiler, source, source_len, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, invokePPPPP(compiler, source, source_len, options, __functionAddress));
     }
 
     /** Takes SPIR-V as a sequence of 32-bit words, validates it, then compiles to MSL. */
@@ -603,7 +668,8 @@ public class ShadercSpvc {
             check(compiler);
             check(options);
         }
-        return invokePPPPP(compiler, source, source_len, options, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, invokePPPPP(compiler, source, source_len, options, __functionAddress));
     }
 
     /** Takes SPIR-V as a sequence of 32-bit words, validates it, then compiles to Vulkan specific SPIR-V. */
@@ -624,7 +690,9 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(result);
         }
+        long __start = FunctionProfiler.start();
         invokePV(result, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ shaderc_spvc_result_get_status ] ---
@@ -639,7 +707,8 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(result);
         }
-        return invokePI(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, invokePI(result, __functionAddress));
     }
 
     // --- [ shaderc_spvc_result_get_messages ] ---
@@ -650,7 +719,8 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, invokePP(result, __functionAddress));
     }
 
     /** Get validation/compilation error or informational messages. */
@@ -669,7 +739,8 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, invokePP(result, __functionAddress));
     }
 
     /**
@@ -692,7 +763,8 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(result);
         }
-        return invokePP(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, invokePP(result, __functionAddress));
     }
 
     /**
@@ -732,7 +804,8 @@ public class ShadercSpvc {
         if (CHECKS) {
             check(result);
         }
-        return invokePI(result, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, invokePI(result, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ public class STBDXT {
     /** High quality mode, does two refinement steps instead of 1. ~30-40% slower. */
     public static final int STB_DXT_HIGHQUAL = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBDXT.class, "stb_compress_dxt_block,stb_compress_bc4_block,stb_compress_bc5_block");
+
     static { LibSTB.initialize(); }
 
     protected STBDXT() {
@@ -52,7 +54,9 @@ public class STBDXT {
             check(dest, alpha ? 16 : 8);
             check(src_rgba_four_bytes_per_pixel, 64);
         }
+        long __start = FunctionProfiler.start();
         nstb_compress_dxt_block(memAddress(dest), memAddress(src_rgba_four_bytes_per_pixel), alpha ? 1 : 0, mode);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ stb_compress_bc4_block ] ---
@@ -71,7 +75,9 @@ public class STBDXT {
             check(dest, 8);
             check(src_r_one_byte_per_pixel, 16);
         }
+        long __start = FunctionProfiler.start();
         nstb_compress_bc4_block(memAddress(dest), memAddress(src_r_one_byte_per_pixel));
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ stb_compress_bc5_block ] ---
@@ -90,7 +96,9 @@ public class STBDXT {
             check(dest, 16);
             check(src_rg_two_byte_per_pixel, 32);
         }
+        long __start = FunctionProfiler.start();
         nstb_compress_bc5_block(memAddress(dest), memAddress(src_rg_two_byte_per_pixel));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
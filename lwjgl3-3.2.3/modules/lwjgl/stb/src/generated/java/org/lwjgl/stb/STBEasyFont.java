@@ -53,6 +53,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class STBEasyFont {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBEasyFont.class, "stb_easy_font_width,stb_easy_font_height,stb_easy_font_print");
+
     static { LibSTB.initialize(); }
 
     protected STBEasyFont() {
@@ -75,7 +77,8 @@ public class STBEasyFont {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nstb_easy_font_width(memAddress(text));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nstb_easy_font_width(memAddress(text)));
     }
 
     /**
@@ -90,7 +93,8 @@ public class STBEasyFont {
         try {
             stack.nASCII(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nstb_easy_font_width(textEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nstb_easy_font_width(textEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -112,7 +116,8 @@ public class STBEasyFont {
         if (CHECKS) {
             checkNT1(text);
         }
-        return nstb_easy_font_height(memAddress(text));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nstb_easy_font_height(memAddress(text)));
     }
 
     /**
@@ -127,7 +132,8 @@ public class STBEasyFont {
         try {
             stack.nASCII(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nstb_easy_font_height(textEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, nstb_easy_font_height(textEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -178,7 +184,8 @@ public class STBEasyFont {
             checkNT1(text);
             checkSafe(color, 4);
         }
-        return nstb_easy_font_print(x, y, memAddress(text), memAddressSafe(color), memAddress(vertex_buffer), vertex_buffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nstb_easy_font_print(x, y, memAddress(text), memAddressSafe(color), memAddress(vertex_buffer), vertex_buffer.remaining()));
     }
 
     /**
@@ -220,7 +227,8 @@ public class STBEasyFont {
         try {
             stack.nASCII(text, true);
             long textEncoded = stack.getPointerAddress();
-            return nstb_easy_font_print(x, y, textEncoded, memAddressSafe(color), memAddress(vertex_buffer), vertex_buffer.remaining());
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 2, __start, nstb_easy_font_print(x, y, textEncoded, memAddressSafe(color), memAddress(vertex_buffer), vertex_buffer.remaining()));
         } finally {
             stack.setPointer(stackPointer);
         }
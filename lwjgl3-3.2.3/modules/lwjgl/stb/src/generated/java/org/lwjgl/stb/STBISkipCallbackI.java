@@ -7,8 +7,6 @@ package org.lwjgl.stb;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * Instances of this interface may be set to the {@code skip} field of the {@link STBIIOCallbacks} struct.
  * 
@@ -22,7 +20,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("void (*) (void *, int)")
-public interface STBISkipCallbackI extends CallbackI.V {
+public interface STBISkipCallbackI extends CallbackI.V_PI {
 
     String SIGNATURE = "(pi)v";
 
@@ -30,11 +28,8 @@ public interface STBISkipCallbackI extends CallbackI.V {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default void callback(long args) {
-        invoke(
-            dcbArgPointer(args),
-            dcbArgInt(args)
-        );
+    default void callback(long user, int n) {
+        invoke(user, n);
     }
 
     /**
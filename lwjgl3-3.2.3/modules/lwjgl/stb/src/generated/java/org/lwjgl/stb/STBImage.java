@@ -125,6 +125,8 @@ public class STBImage {
         STBI_rgb        = 3,
         STBI_rgb_alpha  = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBImage.class, "stbi_load,stbi_load_from_memory,stbi_load_from_callbacks,stbi_load_gif_from_memory,stbi_load_16,stbi_load_16_from_memory,stbi_load_16_from_callbacks,stbi_loadf,stbi_loadf_from_memory,stbi_loadf_from_callbacks,stbi_is_hdr,stbi_is_hdr_from_memory,stbi_is_hdr_from_callbacks,stbi_failure_reason,stbi_image_free,stbi_info,stbi_info_from_memory,stbi_info_from_callbacks,stbi_is_16_bit,stbi_is_16_bit_from_memory,stbi_is_16_bit_from_callbacks,stbi_set_unpremultiply_on_load,stbi_convert_iphone_png_to_rgb,stbi_set_flip_vertically_on_load,stbi_zlib_decode_malloc_guesssize,stbi_zlib_decode_malloc_guesssize_headerflag,stbi_zlib_decode_malloc,stbi_zlib_decode_buffer,stbi_zlib_decode_noheader_malloc,stbi_zlib_decode_noheader_buffer");
+
     static { LibSTB.initialize(); }
 
     protected STBImage() {
@@ -176,7 +178,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load(memAddress(filename), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nstbi_load(memAddress(filename), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memByteBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -223,7 +226,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            long __result = nstbi_load(filenameEncoded, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID, __start, nstbi_load(filenameEncoded, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
             return memByteBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
         } finally {
             stack.setPointer(stackPointer);
@@ -256,7 +260,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nstbi_load_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memByteBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -290,7 +295,8 @@ public class STBImage {
             check(channels_in_file, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        long __result = nstbi_load_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, nstbi_load_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memByteBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -324,7 +330,8 @@ public class STBImage {
             check(z, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_gif_from_memory(memAddress(buffer), buffer.remaining(), memAddress(delays), memAddress(x), memAddress(y), memAddress(z), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, nstbi_load_gif_from_memory(memAddress(buffer), buffer.remaining(), memAddress(delays), memAddress(x), memAddress(y), memAddress(z), memAddress(channels_in_file), desired_channels));
         return memByteBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * z.get(z.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -351,7 +358,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_16(memAddress(filename), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nstbi_load_16(memAddress(filename), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memShortBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -376,7 +384,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            long __result = nstbi_load_16(filenameEncoded, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nstbi_load_16(filenameEncoded, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
             return memShortBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
         } finally {
             stack.setPointer(stackPointer);
@@ -409,7 +418,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_16_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nstbi_load_16_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memShortBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -437,7 +447,8 @@ public class STBImage {
             check(channels_in_file, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        long __result = nstbi_load_16_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, nstbi_load_16_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memShortBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -464,7 +475,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_loadf(memAddress(filename), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 7, __start, nstbi_loadf(memAddress(filename), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memFloatBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -489,7 +501,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            long __result = nstbi_loadf(filenameEncoded, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 7, __start, nstbi_loadf(filenameEncoded, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
             return memFloatBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
         } finally {
             stack.setPointer(stackPointer);
@@ -522,7 +535,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_loadf_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nstbi_loadf_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memFloatBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -550,7 +564,8 @@ public class STBImage {
             check(channels_in_file, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        long __result = nstbi_loadf_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 9, __start, nstbi_loadf_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(channels_in_file), desired_channels));
         return memFloatBufferSafe(__result, x.get(x.position()) * y.get(y.position()) * (desired_channels != 0 ? desired_channels : channels_in_file.get(channels_in_file.position())));
     }
 
@@ -607,7 +622,8 @@ public class STBImage {
         if (CHECKS) {
             checkNT1(filename);
         }
-        return nstbi_is_hdr(memAddress(filename)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nstbi_is_hdr(memAddress(filename))) != 0;
     }
 
     /**
@@ -623,7 +639,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_is_hdr(filenameEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 10, __start, nstbi_is_hdr(filenameEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -645,7 +662,8 @@ public class STBImage {
      */
     @NativeType("int")
     public static boolean stbi_is_hdr_from_memory(@NativeType("stbi_uc const *") ByteBuffer buffer) {
-        return nstbi_is_hdr_from_memory(memAddress(buffer), buffer.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nstbi_is_hdr_from_memory(memAddress(buffer), buffer.remaining())) != 0;
     }
 
     // --- [ stbi_is_hdr_from_callbacks ] ---
@@ -664,7 +682,8 @@ public class STBImage {
         if (CHECKS) {
             STBIIOCallbacks.validate(clbk.address());
         }
-        return nstbi_is_hdr_from_callbacks(clbk.address(), user) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nstbi_is_hdr_from_callbacks(clbk.address(), user)) != 0;
     }
 
     // --- [ stbi_failure_reason ] ---
@@ -676,7 +695,8 @@ public class STBImage {
     @Nullable
     @NativeType("char const *")
     public static String stbi_failure_reason() {
-        long __result = nstbi_failure_reason();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 13, __start, nstbi_failure_reason());
         return memASCIISafe(__result);
     }
 
@@ -691,7 +711,9 @@ public class STBImage {
      * @param retval_from_stbi_load an stb image
      */
     public static void stbi_image_free(@NativeType("void *") ByteBuffer retval_from_stbi_load) {
+        long __start = FunctionProfiler.start();
         nstbi_image_free(memAddress(retval_from_stbi_load));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -700,7 +722,9 @@ public class STBImage {
      * @param retval_from_stbi_load an stb image
      */
     public static void stbi_image_free(@NativeType("void *") ShortBuffer retval_from_stbi_load) {
+        long __start = FunctionProfiler.start();
         nstbi_image_free(memAddress(retval_from_stbi_load));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -709,7 +733,9 @@ public class STBImage {
      * @param retval_from_stbi_load an stb image
      */
     public static void stbi_image_free(@NativeType("void *") FloatBuffer retval_from_stbi_load) {
+        long __start = FunctionProfiler.start();
         nstbi_image_free(memAddress(retval_from_stbi_load));
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ stbi_info ] ---
@@ -735,7 +761,8 @@ public class STBImage {
             check(y, 1);
             check(comp, 1);
         }
-        return nstbi_info(memAddress(filename), memAddress(x), memAddress(y), memAddress(comp)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nstbi_info(memAddress(filename), memAddress(x), memAddress(y), memAddress(comp))) != 0;
     }
 
     /**
@@ -759,7 +786,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_info(filenameEncoded, memAddress(x), memAddress(y), memAddress(comp)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 15, __start, nstbi_info(filenameEncoded, memAddress(x), memAddress(y), memAddress(comp))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -789,7 +817,8 @@ public class STBImage {
             check(y, 1);
             check(comp, 1);
         }
-        return nstbi_info_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(comp)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nstbi_info_from_memory(memAddress(buffer), buffer.remaining(), memAddress(x), memAddress(y), memAddress(comp))) != 0;
     }
 
     // --- [ stbi_info_from_callbacks ] ---
@@ -814,7 +843,8 @@ public class STBImage {
             check(comp, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        return nstbi_info_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(comp)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nstbi_info_from_callbacks(clbk.address(), user, memAddress(x), memAddress(y), memAddress(comp))) != 0;
     }
 
     // --- [ stbi_is_16_bit ] ---
@@ -832,7 +862,8 @@ public class STBImage {
         if (CHECKS) {
             checkNT1(filename);
         }
-        return nstbi_is_16_bit(memAddress(filename)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nstbi_is_16_bit(memAddress(filename))) != 0;
     }
 
     /**
@@ -846,7 +877,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_is_16_bit(filenameEncoded) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 18, __start, nstbi_is_16_bit(filenameEncoded)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -868,7 +900,8 @@ public class STBImage {
      */
     @NativeType("int")
     public static boolean stbi_is_16_bit_from_memory(@NativeType("stbi_uc const *") ByteBuffer buffer) {
-        return nstbi_is_16_bit_from_memory(memAddress(buffer), buffer.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nstbi_is_16_bit_from_memory(memAddress(buffer), buffer.remaining())) != 0;
     }
 
     // --- [ stbi_is_16_bit_from_callbacks ] ---
@@ -887,7 +920,8 @@ public class STBImage {
         if (CHECKS) {
             STBIIOCallbacks.validate(clbk.address());
         }
-        return nstbi_is_16_bit_from_callbacks(clbk.address(), user) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nstbi_is_16_bit_from_callbacks(clbk.address(), user)) != 0;
     }
 
     // --- [ stbi_set_unpremultiply_on_load ] ---
@@ -902,7 +936,9 @@ public class STBImage {
      * @param flag_true_if_should_unpremultiply the unpremultiply flag
      */
     public static void stbi_set_unpremultiply_on_load(@NativeType("int") boolean flag_true_if_should_unpremultiply) {
+        long __start = FunctionProfiler.start();
         nstbi_set_unpremultiply_on_load(flag_true_if_should_unpremultiply ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ stbi_convert_iphone_png_to_rgb ] ---
@@ -916,7 +952,9 @@ public class STBImage {
      * @param flag_true_if_should_convert the convert iPhone PNG to RGB flag
      */
     public static void stbi_convert_iphone_png_to_rgb(@NativeType("int") boolean flag_true_if_should_convert) {
+        long __start = FunctionProfiler.start();
         nstbi_convert_iphone_png_to_rgb(flag_true_if_should_convert ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ stbi_set_flip_vertically_on_load ] ---
@@ -930,7 +968,9 @@ public class STBImage {
      * @param flag_true_if_should_flip the flip vertically on load flag
      */
     public static void stbi_set_flip_vertically_on_load(@NativeType("int") boolean flag_true_if_should_flip) {
+        long __start = FunctionProfiler.start();
         nstbi_set_flip_vertically_on_load(flag_true_if_should_flip ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ stbi_zlib_decode_malloc_guesssize ] ---
@@ -945,7 +985,8 @@ public class STBImage {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer outlen = stack.callocInt(1);
-            long __result = nstbi_zlib_decode_malloc_guesssize(memAddress(buffer), buffer.remaining(), initial_size, memAddress(outlen));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 24, __start, nstbi_zlib_decode_malloc_guesssize(memAddress(buffer), buffer.remaining(), initial_size, memAddress(outlen)));
             return memByteBufferSafe(__result, outlen.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -964,7 +1005,8 @@ public class STBImage {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer outlen = stack.callocInt(1);
-            long __result = nstbi_zlib_decode_malloc_guesssize_headerflag(memAddress(buffer), buffer.remaining(), initial_size, memAddress(outlen), parse_header ? 1 : 0);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 25, __start, nstbi_zlib_decode_malloc_guesssize_headerflag(memAddress(buffer), buffer.remaining(), initial_size, memAddress(outlen), parse_header ? 1 : 0));
             return memByteBufferSafe(__result, outlen.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -983,7 +1025,8 @@ public class STBImage {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer outlen = stack.callocInt(1);
-            long __result = nstbi_zlib_decode_malloc(memAddress(buffer), buffer.remaining(), memAddress(outlen));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 26, __start, nstbi_zlib_decode_malloc(memAddress(buffer), buffer.remaining(), memAddress(outlen)));
             return memByteBufferSafe(__result, outlen.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -997,7 +1040,8 @@ public class STBImage {
 
     /** ZLIB client - used by PNG, available for other purposes */
     public static int stbi_zlib_decode_buffer(@NativeType("char *") ByteBuffer obuffer, @NativeType("char const *") ByteBuffer ibuffer) {
-        return nstbi_zlib_decode_buffer(memAddress(obuffer), obuffer.remaining(), memAddress(ibuffer), ibuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nstbi_zlib_decode_buffer(memAddress(obuffer), obuffer.remaining(), memAddress(ibuffer), ibuffer.remaining()));
     }
 
     // --- [ stbi_zlib_decode_noheader_malloc ] ---
@@ -1012,7 +1056,8 @@ public class STBImage {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             IntBuffer outlen = stack.callocInt(1);
-            long __result = nstbi_zlib_decode_noheader_malloc(memAddress(buffer), buffer.remaining(), memAddress(outlen));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 28, __start, nstbi_zlib_decode_noheader_malloc(memAddress(buffer), buffer.remaining(), memAddress(outlen)));
             return memByteBufferSafe(__result, outlen.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1026,7 +1071,8 @@ public class STBImage {
 
     /** ZLIB client - used by PNG, available for other purposes */
     public static int stbi_zlib_decode_noheader_buffer(@NativeType("char *") ByteBuffer obuffer, @NativeType("char const *") ByteBuffer ibuffer) {
-        return nstbi_zlib_decode_noheader_buffer(memAddress(obuffer), obuffer.remaining(), memAddress(ibuffer), ibuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nstbi_zlib_decode_noheader_buffer(memAddress(obuffer), obuffer.remaining(), memAddress(ibuffer), ibuffer.remaining()));
     }
 
     /** Array version of: {@link #nstbi_load} */
@@ -1042,7 +1088,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load(memAddress(filename), x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nstbi_load(memAddress(filename), x, y, channels_in_file, desired_channels));
         return memByteBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1059,7 +1106,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            long __result = nstbi_load(filenameEncoded, x, y, channels_in_file, desired_channels);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID, __start, nstbi_load(filenameEncoded, x, y, channels_in_file, desired_channels));
             return memByteBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
         } finally {
             stack.setPointer(stackPointer);
@@ -1078,7 +1126,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_from_memory(memAddress(buffer), buffer.remaining(), x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nstbi_load_from_memory(memAddress(buffer), buffer.remaining(), x, y, channels_in_file, desired_channels));
         return memByteBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1095,7 +1144,8 @@ public class STBImage {
             check(channels_in_file, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        long __result = nstbi_load_from_callbacks(clbk.address(), user, x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, nstbi_load_from_callbacks(clbk.address(), user, x, y, channels_in_file, desired_channels));
         return memByteBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1113,7 +1163,8 @@ public class STBImage {
             check(z, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_gif_from_memory(memAddress(buffer), buffer.remaining(), memAddress(delays), x, y, z, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, nstbi_load_gif_from_memory(memAddress(buffer), buffer.remaining(), memAddress(delays), x, y, z, channels_in_file, desired_channels));
         return memByteBufferSafe(__result, x[0] * y[0] * z[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1130,7 +1181,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_16(memAddress(filename), x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nstbi_load_16(memAddress(filename), x, y, channels_in_file, desired_channels));
         return memShortBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1147,7 +1199,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            long __result = nstbi_load_16(filenameEncoded, x, y, channels_in_file, desired_channels);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, nstbi_load_16(filenameEncoded, x, y, channels_in_file, desired_channels));
             return memShortBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
         } finally {
             stack.setPointer(stackPointer);
@@ -1166,7 +1219,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_load_16_from_memory(memAddress(buffer), buffer.remaining(), x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, nstbi_load_16_from_memory(memAddress(buffer), buffer.remaining(), x, y, channels_in_file, desired_channels));
         return memShortBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1183,7 +1237,8 @@ public class STBImage {
             check(channels_in_file, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        long __result = nstbi_load_16_from_callbacks(clbk.address(), user, x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, nstbi_load_16_from_callbacks(clbk.address(), user, x, y, channels_in_file, desired_channels));
         return memShortBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1200,7 +1255,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_loadf(memAddress(filename), x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 7, __start, nstbi_loadf(memAddress(filename), x, y, channels_in_file, desired_channels));
         return memFloatBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1217,7 +1273,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            long __result = nstbi_loadf(filenameEncoded, x, y, channels_in_file, desired_channels);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 7, __start, nstbi_loadf(filenameEncoded, x, y, channels_in_file, desired_channels));
             return memFloatBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
         } finally {
             stack.setPointer(stackPointer);
@@ -1236,7 +1293,8 @@ public class STBImage {
             check(y, 1);
             check(channels_in_file, 1);
         }
-        long __result = nstbi_loadf_from_memory(memAddress(buffer), buffer.remaining(), x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nstbi_loadf_from_memory(memAddress(buffer), buffer.remaining(), x, y, channels_in_file, desired_channels));
         return memFloatBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1253,7 +1311,8 @@ public class STBImage {
             check(channels_in_file, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        long __result = nstbi_loadf_from_callbacks(clbk.address(), user, x, y, channels_in_file, desired_channels);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 9, __start, nstbi_loadf_from_callbacks(clbk.address(), user, x, y, channels_in_file, desired_channels));
         return memFloatBufferSafe(__result, x[0] * y[0] * (desired_channels != 0 ? desired_channels : channels_in_file[0]));
     }
 
@@ -1269,7 +1328,8 @@ public class STBImage {
             check(y, 1);
             check(comp, 1);
         }
-        return nstbi_info(memAddress(filename), x, y, comp) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nstbi_info(memAddress(filename), x, y, comp)) != 0;
     }
 
     /** Array version of: {@link #stbi_info info} */
@@ -1284,7 +1344,8 @@ public class STBImage {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_info(filenameEncoded, x, y, comp) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 15, __start, nstbi_info(filenameEncoded, x, y, comp)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1301,7 +1362,8 @@ public class STBImage {
             check(y, 1);
             check(comp, 1);
         }
-        return nstbi_info_from_memory(memAddress(buffer), buffer.remaining(), x, y, comp) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nstbi_info_from_memory(memAddress(buffer), buffer.remaining(), x, y, comp)) != 0;
     }
 
     /** Array version of: {@link #nstbi_info_from_callbacks} */
@@ -1316,7 +1378,8 @@ public class STBImage {
             check(comp, 1);
             STBIIOCallbacks.validate(clbk.address());
         }
-        return nstbi_info_from_callbacks(clbk.address(), user, x, y, comp) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nstbi_info_from_callbacks(clbk.address(), user, x, y, comp)) != 0;
     }
 
 }
\ No newline at end of file
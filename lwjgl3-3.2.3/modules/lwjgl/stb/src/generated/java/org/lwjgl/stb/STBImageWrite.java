@@ -68,6 +68,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class STBImageWrite {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBImageWrite.class, "stbi_write_png,stbi_write_bmp,stbi_write_tga,stbi_write_hdr,stbi_write_jpg,stbi_write_png_to_func,stbi_write_bmp_to_func,stbi_write_tga_to_func,stbi_write_hdr_to_func,stbi_write_jpg_to_func,stbi_flip_vertically_on_write");
+
     static { LibSTB.initialize(); }
 
     protected STBImageWrite() {
@@ -105,7 +107,8 @@ public class STBImageWrite {
             checkNT1(filename);
             check(data, (stride_in_bytes != 0 ? stride_in_bytes : w * comp) * h);
         }
-        return nstbi_write_png(memAddress(filename), w, h, comp, memAddress(data), stride_in_bytes) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nstbi_write_png(memAddress(filename), w, h, comp, memAddress(data), stride_in_bytes)) != 0;
     }
 
     /**
@@ -137,7 +140,8 @@ public class STBImageWrite {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_write_png(filenameEncoded, w, h, comp, memAddress(data), stride_in_bytes) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, nstbi_write_png(filenameEncoded, w, h, comp, memAddress(data), stride_in_bytes)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -210,7 +214,8 @@ public class STBImageWrite {
             checkNT1(filename);
             check(data, w * h * comp);
         }
-        return nstbi_write_bmp(memAddress(filename), w, h, comp, memAddress(data)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nstbi_write_bmp(memAddress(filename), w, h, comp, memAddress(data))) != 0;
     }
 
     /**
@@ -235,7 +240,8 @@ public class STBImageWrite {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_write_bmp(filenameEncoded, w, h, comp, memAddress(data)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, nstbi_write_bmp(filenameEncoded, w, h, comp, memAddress(data))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -266,7 +272,8 @@ public class STBImageWrite {
             checkNT1(filename);
             check(data, w * h * comp);
         }
-        return nstbi_write_tga(memAddress(filename), w, h, comp, memAddress(data)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nstbi_write_tga(memAddress(filename), w, h, comp, memAddress(data))) != 0;
     }
 
     /**
@@ -292,7 +299,8 @@ public class STBImageWrite {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_write_tga(filenameEncoded, w, h, comp, memAddress(data)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 2, __start, nstbi_write_tga(filenameEncoded, w, h, comp, memAddress(data))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -336,7 +344,8 @@ public class STBImageWrite {
             checkNT1(filename);
             check(data, w * h * comp);
         }
-        return nstbi_write_hdr(memAddress(filename), w, h, comp, memAddress(data)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nstbi_write_hdr(memAddress(filename), w, h, comp, memAddress(data))) != 0;
     }
 
     /**
@@ -362,7 +371,8 @@ public class STBImageWrite {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_write_hdr(filenameEncoded, w, h, comp, memAddress(data)) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nstbi_write_hdr(filenameEncoded, w, h, comp, memAddress(data))) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -394,7 +404,8 @@ public class STBImageWrite {
             checkNT1(filename);
             check(data, w * h * comp);
         }
-        return nstbi_write_jpg(memAddress(filename), w, h, comp, memAddress(data), quality) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nstbi_write_jpg(memAddress(filename), w, h, comp, memAddress(data), quality)) != 0;
     }
 
     /**
@@ -421,7 +432,8 @@ public class STBImageWrite {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_write_jpg(filenameEncoded, w, h, comp, memAddress(data), quality) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 4, __start, nstbi_write_jpg(filenameEncoded, w, h, comp, memAddress(data), quality)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -450,7 +462,8 @@ public class STBImageWrite {
         if (CHECKS) {
             check(data, (stride_in_bytes != 0 ? stride_in_bytes : w * comp) * h);
         }
-        return nstbi_write_png_to_func(func.address(), context, w, h, comp, memAddress(data), stride_in_bytes) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nstbi_write_png_to_func(func.address(), context, w, h, comp, memAddress(data), stride_in_bytes)) != 0;
     }
 
     // --- [ stbi_write_bmp_to_func ] ---
@@ -475,7 +488,8 @@ public class STBImageWrite {
         if (CHECKS) {
             check(data, w * h * comp);
         }
-        return nstbi_write_bmp_to_func(func.address(), context, w, h, comp, memAddress(data)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nstbi_write_bmp_to_func(func.address(), context, w, h, comp, memAddress(data))) != 0;
     }
 
     // --- [ stbi_write_tga_to_func ] ---
@@ -500,7 +514,8 @@ public class STBImageWrite {
         if (CHECKS) {
             check(data, w * h * comp);
         }
-        return nstbi_write_tga_to_func(func.address(), context, w, h, comp, memAddress(data)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nstbi_write_tga_to_func(func.address(), context, w, h, comp, memAddress(data))) != 0;
     }
 
     // --- [ stbi_write_hdr_to_func ] ---
@@ -525,7 +540,8 @@ public class STBImageWrite {
         if (CHECKS) {
             check(data, w * h * comp);
         }
-        return nstbi_write_hdr_to_func(func.address(), context, w, h, comp, memAddress(data)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nstbi_write_hdr_to_func(func.address(), context, w, h, comp, memAddress(data))) != 0;
     }
 
     // --- [ stbi_write_jpg_to_func ] ---
@@ -550,7 +566,8 @@ public class STBImageWrite {
         if (CHECKS) {
             check(data, w * h * comp);
         }
-        return nstbi_write_jpg_to_func(func.address(), context, w, h, comp, memAddress(data), quality);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nstbi_write_jpg_to_func(func.address(), context, w, h, comp, memAddress(data), quality));
     }
 
     // --- [ stbi_flip_vertically_on_write ] ---
@@ -564,7 +581,9 @@ public class STBImageWrite {
      * @param flip_boolean true to flip data vertically
      */
     public static void stbi_flip_vertically_on_write(@NativeType("int") boolean flip_boolean) {
+        long __start = FunctionProfiler.start();
         nstbi_flip_vertically_on_write(flip_boolean ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #nstbi_write_hdr} */
@@ -577,7 +596,8 @@ public class STBImageWrite {
             checkNT1(filename);
             check(data, w * h * comp);
         }
-        return nstbi_write_hdr(memAddress(filename), w, h, comp, data) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nstbi_write_hdr(memAddress(filename), w, h, comp, data)) != 0;
     }
 
     /** Array version of: {@link #stbi_write_hdr write_hdr} */
@@ -590,7 +610,8 @@ public class STBImageWrite {
         try {
             stack.nUTF8(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstbi_write_hdr(filenameEncoded, w, h, comp, data) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 3, __start, nstbi_write_hdr(filenameEncoded, w, h, comp, data)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -605,7 +626,8 @@ public class STBImageWrite {
         if (CHECKS) {
             check(data, w * h * comp);
         }
-        return nstbi_write_hdr_to_func(func.address(), context, w, h, comp, data) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nstbi_write_hdr_to_func(func.address(), context, w, h, comp, data)) != 0;
     }
 
 }
\ No newline at end of file
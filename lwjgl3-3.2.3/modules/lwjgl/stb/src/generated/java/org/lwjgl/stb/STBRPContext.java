@@ -231,6 +231,24 @@ public class STBRPContext extends Struct implements NativeResource {
         return wrap(STBRPContext.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBRPContext} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBRPContext malloc(MemoryArena arena) {
+        return wrap(STBRPContext.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBRPContext} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBRPContext calloc(MemoryArena arena) {
+        return wrap(STBRPContext.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBRPContext.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class STBRPContext extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBRPContext.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBRPContext.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBRPContext.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBRPContext.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #width}. */
@@ -359,6 +397,31 @@ public class STBRPContext extends Struct implements NativeResource {
         @NativeType("stbrp_node")
         public STBRPNode extra(int index) { return STBRPContext.nextra(address(), index); }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public STBRPContext.Buffer getWidth(int[] dst) { gather(STBRPContext.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPContext.Buffer getWidth(IntBuffer dst) { gather(STBRPContext.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public STBRPContext.Buffer getHeight(int[] dst) { gather(STBRPContext.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPContext.Buffer getHeight(IntBuffer dst) { gather(STBRPContext.HEIGHT, dst); return this; }
+        /** Copies the {@code align} field of the structs between the current position and limit to the specified array. */
+        public STBRPContext.Buffer getAlign(int[] dst) { gather(STBRPContext.ALIGN, dst); return this; }
+        /** Copies the {@code align} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPContext.Buffer getAlign(IntBuffer dst) { gather(STBRPContext.ALIGN, dst); return this; }
+        /** Copies the {@code init_mode} field of the structs between the current position and limit to the specified array. */
+        public STBRPContext.Buffer getInit_mode(int[] dst) { gather(STBRPContext.INIT_MODE, dst); return this; }
+        /** Copies the {@code init_mode} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPContext.Buffer getInit_mode(IntBuffer dst) { gather(STBRPContext.INIT_MODE, dst); return this; }
+        /** Copies the {@code heuristic} field of the structs between the current position and limit to the specified array. */
+        public STBRPContext.Buffer getHeuristic(int[] dst) { gather(STBRPContext.HEURISTIC, dst); return this; }
+        /** Copies the {@code heuristic} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPContext.Buffer getHeuristic(IntBuffer dst) { gather(STBRPContext.HEURISTIC, dst); return this; }
+        /** Copies the {@code num_nodes} field of the structs between the current position and limit to the specified array. */
+        public STBRPContext.Buffer getNum_nodes(int[] dst) { gather(STBRPContext.NUM_NODES, dst); return this; }
+        /** Copies the {@code num_nodes} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPContext.Buffer getNum_nodes(IntBuffer dst) { gather(STBRPContext.NUM_NODES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -184,6 +184,24 @@ public class STBRPNode extends Struct implements NativeResource {
         return wrap(STBRPNode.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBRPNode} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBRPNode malloc(MemoryArena arena) {
+        return wrap(STBRPNode.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBRPNode} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBRPNode calloc(MemoryArena arena) {
+        return wrap(STBRPNode.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBRPNode.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -222,6 +240,26 @@ public class STBRPNode extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBRPNode.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBRPNode.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBRPNode.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBRPNode.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -280,6 +318,15 @@ public class STBRPNode extends Struct implements NativeResource {
         @NativeType("stbrp_node *")
         public STBRPNode next() { return STBRPNode.nnext(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public STBRPNode.Buffer getX(short[] dst) { gather(STBRPNode.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPNode.Buffer getX(ShortBuffer dst) { gather(STBRPNode.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public STBRPNode.Buffer getY(short[] dst) { gather(STBRPNode.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPNode.Buffer getY(ShortBuffer dst) { gather(STBRPNode.Y, dst); return this; }
+
     }
 
 }
\ No newline at end of file
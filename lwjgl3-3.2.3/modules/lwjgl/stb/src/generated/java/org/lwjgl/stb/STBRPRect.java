@@ -258,6 +258,24 @@ public class STBRPRect extends Struct implements NativeResource {
         return wrap(STBRPRect.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBRPRect} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBRPRect malloc(MemoryArena arena) {
+        return wrap(STBRPRect.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBRPRect} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBRPRect calloc(MemoryArena arena) {
+        return wrap(STBRPRect.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBRPRect.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -296,6 +314,26 @@ public class STBRPRect extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBRPRect.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBRPRect.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBRPRect.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBRPRect.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #id}. */
@@ -393,6 +431,48 @@ public class STBRPRect extends Struct implements NativeResource {
         /** Sets the specified value to the {@code was_packed} field. */
         public STBRPRect.Buffer was_packed(@NativeType("int") boolean value) { STBRPRect.nwas_packed(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code id} field of the structs between the current position and limit to the specified array. */
+        public STBRPRect.Buffer getId(int[] dst) { gather(STBRPRect.ID, dst); return this; }
+        /** Copies the {@code id} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPRect.Buffer getId(IntBuffer dst) { gather(STBRPRect.ID, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public STBRPRect.Buffer getW(short[] dst) { gather(STBRPRect.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPRect.Buffer getW(ShortBuffer dst) { gather(STBRPRect.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public STBRPRect.Buffer getH(short[] dst) { gather(STBRPRect.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPRect.Buffer getH(ShortBuffer dst) { gather(STBRPRect.H, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public STBRPRect.Buffer getX(short[] dst) { gather(STBRPRect.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPRect.Buffer getX(ShortBuffer dst) { gather(STBRPRect.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public STBRPRect.Buffer getY(short[] dst) { gather(STBRPRect.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public STBRPRect.Buffer getY(ShortBuffer dst) { gather(STBRPRect.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code id} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putId(int[] src) { scatter(STBRPRect.ID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code id} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putId(IntBuffer src) { scatter(STBRPRect.ID, src); return this; }
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putW(short[] src) { scatter(STBRPRect.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putW(ShortBuffer src) { scatter(STBRPRect.W, src); return this; }
+        /** Copies the values in the specified array to the {@code h} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putH(short[] src) { scatter(STBRPRect.H, src); return this; }
+        /** Copies the values in the specified buffer to the {@code h} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putH(ShortBuffer src) { scatter(STBRPRect.H, src); return this; }
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putX(short[] src) { scatter(STBRPRect.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putX(ShortBuffer src) { scatter(STBRPRect.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putY(short[] src) { scatter(STBRPRect.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public STBRPRect.Buffer putY(ShortBuffer src) { scatter(STBRPRect.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
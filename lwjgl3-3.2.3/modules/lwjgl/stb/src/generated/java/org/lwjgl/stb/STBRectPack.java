@@ -34,6 +34,8 @@ public class STBRectPack {
         STBRP_HEURISTIC_Skyline_BL_sortHeight = STBRP_HEURISTIC_Skyline_default,
         STBRP_HEURISTIC_Skyline_BF_sortHeight = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBRectPack.class, "stbrp_pack_rects,stbrp_init_target,stbrp_setup_allow_out_of_mem,stbrp_setup_heuristic");
+
     static { LibSTB.initialize(); }
 
     protected STBRectPack() {
@@ -70,7 +72,8 @@ public class STBRectPack {
      * @return 1 if all of the rectangles were successfully packed and 0 otherwise
      */
     public static int stbrp_pack_rects(@NativeType("stbrp_context *") STBRPContext context, @NativeType("stbrp_rect *") STBRPRect.Buffer rects) {
-        return nstbrp_pack_rects(context.address(), rects.address(), rects.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nstbrp_pack_rects(context.address(), rects.address(), rects.remaining()));
     }
 
     // --- [ stbrp_init_target ] ---
@@ -109,7 +112,9 @@ public class STBRectPack {
      * @param nodes   an array of {@link STBRPNode} structs
      */
     public static void stbrp_init_target(@NativeType("stbrp_context *") STBRPContext context, int width, int height, @NativeType("stbrp_node *") STBRPNode.Buffer nodes) {
+        long __start = FunctionProfiler.start();
         nstbrp_init_target(context.address(), width, height, nodes.address(), nodes.remaining());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ stbrp_setup_allow_out_of_mem ] ---
@@ -125,7 +130,9 @@ public class STBRectPack {
      * @param allow_out_of_mem 1 to allow running out of temporary storage
      */
     public static void stbrp_setup_allow_out_of_mem(@NativeType("stbrp_context *") STBRPContext context, @NativeType("int") boolean allow_out_of_mem) {
+        long __start = FunctionProfiler.start();
         nstbrp_setup_allow_out_of_mem(context.address(), allow_out_of_mem ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ stbrp_setup_heuristic ] ---
@@ -141,7 +148,9 @@ public class STBRectPack {
      * @param heuristic the packing heuristic
      */
     public static void stbrp_setup_heuristic(@NativeType("stbrp_context *") STBRPContext context, int heuristic) {
+        long __start = FunctionProfiler.start();
         nstbrp_setup_heuristic(context.address(), heuristic);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
 }
\ No newline at end of file
@@ -210,6 +210,24 @@ public class STBTTAlignedQuad extends Struct implements NativeResource {
         return wrap(STBTTAlignedQuad.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTAlignedQuad} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTAlignedQuad malloc(MemoryArena arena) {
+        return wrap(STBTTAlignedQuad.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTAlignedQuad} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTAlignedQuad calloc(MemoryArena arena) {
+        return wrap(STBTTAlignedQuad.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTAlignedQuad.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class STBTTAlignedQuad extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTAlignedQuad.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTAlignedQuad.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTAlignedQuad.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTAlignedQuad.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x0}. */
@@ -322,6 +360,39 @@ public class STBTTAlignedQuad extends Struct implements NativeResource {
         /** Returns the value of the {@code t1} field. */
         public float t1() { return STBTTAlignedQuad.nt1(address()); }
 
+        /** Copies the {@code x0} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getX0(float[] dst) { gather(STBTTAlignedQuad.X0, dst); return this; }
+        /** Copies the {@code x0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getX0(FloatBuffer dst) { gather(STBTTAlignedQuad.X0, dst); return this; }
+        /** Copies the {@code y0} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getY0(float[] dst) { gather(STBTTAlignedQuad.Y0, dst); return this; }
+        /** Copies the {@code y0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getY0(FloatBuffer dst) { gather(STBTTAlignedQuad.Y0, dst); return this; }
+        /** Copies the {@code s0} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getS0(float[] dst) { gather(STBTTAlignedQuad.S0, dst); return this; }
+        /** Copies the {@code s0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getS0(FloatBuffer dst) { gather(STBTTAlignedQuad.S0, dst); return this; }
+        /** Copies the {@code t0} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getT0(float[] dst) { gather(STBTTAlignedQuad.T0, dst); return this; }
+        /** Copies the {@code t0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getT0(FloatBuffer dst) { gather(STBTTAlignedQuad.T0, dst); return this; }
+        /** Copies the {@code x1} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getX1(float[] dst) { gather(STBTTAlignedQuad.X1, dst); return this; }
+        /** Copies the {@code x1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getX1(FloatBuffer dst) { gather(STBTTAlignedQuad.X1, dst); return this; }
+        /** Copies the {@code y1} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getY1(float[] dst) { gather(STBTTAlignedQuad.Y1, dst); return this; }
+        /** Copies the {@code y1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getY1(FloatBuffer dst) { gather(STBTTAlignedQuad.Y1, dst); return this; }
+        /** Copies the {@code s1} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getS1(float[] dst) { gather(STBTTAlignedQuad.S1, dst); return this; }
+        /** Copies the {@code s1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getS1(FloatBuffer dst) { gather(STBTTAlignedQuad.S1, dst); return this; }
+        /** Copies the {@code t1} field of the structs between the current position and limit to the specified array. */
+        public STBTTAlignedQuad.Buffer getT1(float[] dst) { gather(STBTTAlignedQuad.T1, dst); return this; }
+        /** Copies the {@code t1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTAlignedQuad.Buffer getT1(FloatBuffer dst) { gather(STBTTAlignedQuad.T1, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -208,6 +208,24 @@ public class STBTTBakedChar extends Struct implements NativeResource {
         return wrap(STBTTBakedChar.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTBakedChar} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTBakedChar malloc(MemoryArena arena) {
+        return wrap(STBTTBakedChar.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTBakedChar} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTBakedChar calloc(MemoryArena arena) {
+        return wrap(STBTTBakedChar.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTBakedChar.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -246,6 +264,26 @@ public class STBTTBakedChar extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTBakedChar.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTBakedChar.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTBakedChar.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTBakedChar.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x0}. */
@@ -320,6 +358,35 @@ public class STBTTBakedChar extends Struct implements NativeResource {
         /** Returns the value of the {@code xadvance} field. */
         public float xadvance() { return STBTTBakedChar.nxadvance(address()); }
 
+        /** Copies the {@code x0} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getX0(short[] dst) { gather(STBTTBakedChar.X0, dst); return this; }
+        /** Copies the {@code x0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getX0(ShortBuffer dst) { gather(STBTTBakedChar.X0, dst); return this; }
+        /** Copies the {@code y0} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getY0(short[] dst) { gather(STBTTBakedChar.Y0, dst); return this; }
+        /** Copies the {@code y0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getY0(ShortBuffer dst) { gather(STBTTBakedChar.Y0, dst); return this; }
+        /** Copies the {@code x1} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getX1(short[] dst) { gather(STBTTBakedChar.X1, dst); return this; }
+        /** Copies the {@code x1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getX1(ShortBuffer dst) { gather(STBTTBakedChar.X1, dst); return this; }
+        /** Copies the {@code y1} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getY1(short[] dst) { gather(STBTTBakedChar.Y1, dst); return this; }
+        /** Copies the {@code y1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getY1(ShortBuffer dst) { gather(STBTTBakedChar.Y1, dst); return this; }
+        /** Copies the {@code xoff} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getXoff(float[] dst) { gather(STBTTBakedChar.XOFF, dst); return this; }
+        /** Copies the {@code xoff} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getXoff(FloatBuffer dst) { gather(STBTTBakedChar.XOFF, dst); return this; }
+        /** Copies the {@code yoff} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getYoff(float[] dst) { gather(STBTTBakedChar.YOFF, dst); return this; }
+        /** Copies the {@code yoff} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getYoff(FloatBuffer dst) { gather(STBTTBakedChar.YOFF, dst); return this; }
+        /** Copies the {@code xadvance} field of the structs between the current position and limit to the specified array. */
+        public STBTTBakedChar.Buffer getXadvance(float[] dst) { gather(STBTTBakedChar.XADVANCE, dst); return this; }
+        /** Copies the {@code xadvance} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBakedChar.Buffer getXadvance(FloatBuffer dst) { gather(STBTTBakedChar.XADVANCE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -237,6 +237,24 @@ public class STBTTBitmap extends Struct implements NativeResource {
         return wrap(STBTTBitmap.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTBitmap} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTBitmap malloc(MemoryArena arena) {
+        return wrap(STBTTBitmap.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTBitmap} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTBitmap calloc(MemoryArena arena) {
+        return wrap(STBTTBitmap.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTBitmap.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class STBTTBitmap extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTBitmap.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTBitmap.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTBitmap.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTBitmap.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #w}. */
@@ -377,6 +415,32 @@ public class STBTTBitmap extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pixels} field. */
         public STBTTBitmap.Buffer pixels(@NativeType("unsigned char *") ByteBuffer value) { STBTTBitmap.npixels(address(), value); return this; }
 
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public STBTTBitmap.Buffer getW(int[] dst) { gather(STBTTBitmap.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBitmap.Buffer getW(IntBuffer dst) { gather(STBTTBitmap.W, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified array. */
+        public STBTTBitmap.Buffer getH(int[] dst) { gather(STBTTBitmap.H, dst); return this; }
+        /** Copies the {@code h} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBitmap.Buffer getH(IntBuffer dst) { gather(STBTTBitmap.H, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified array. */
+        public STBTTBitmap.Buffer getStride(int[] dst) { gather(STBTTBitmap.STRIDE, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTBitmap.Buffer getStride(IntBuffer dst) { gather(STBTTBitmap.STRIDE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public STBTTBitmap.Buffer putW(int[] src) { scatter(STBTTBitmap.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public STBTTBitmap.Buffer putW(IntBuffer src) { scatter(STBTTBitmap.W, src); return this; }
+        /** Copies the values in the specified array to the {@code h} field of the structs between the current position and limit. */
+        public STBTTBitmap.Buffer putH(int[] src) { scatter(STBTTBitmap.H, src); return this; }
+        /** Copies the values in the specified buffer to the {@code h} field of the structs between the current position and limit. */
+        public STBTTBitmap.Buffer putH(IntBuffer src) { scatter(STBTTBitmap.H, src); return this; }
+        /** Copies the values in the specified array to the {@code stride} field of the structs between the current position and limit. */
+        public STBTTBitmap.Buffer putStride(int[] src) { scatter(STBTTBitmap.STRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stride} field of the structs between the current position and limit. */
+        public STBTTBitmap.Buffer putStride(IntBuffer src) { scatter(STBTTBitmap.STRIDE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -243,6 +243,24 @@ public class STBTTPackContext extends Struct implements NativeResource {
         return wrap(STBTTPackContext.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTPackContext} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTPackContext malloc(MemoryArena arena) {
+        return wrap(STBTTPackContext.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTPackContext} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTPackContext calloc(MemoryArena arena) {
+        return wrap(STBTTPackContext.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTPackContext.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class STBTTPackContext extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTPackContext.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTPackContext.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTPackContext.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTPackContext.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #user_allocator_context}. */
@@ -382,6 +420,31 @@ public class STBTTPackContext extends Struct implements NativeResource {
         @NativeType("stbrp_node *")
         public STBRPNode.Buffer nodes(int capacity) { return STBTTPackContext.nnodes(address(), capacity); }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackContext.Buffer getWidth(int[] dst) { gather(STBTTPackContext.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackContext.Buffer getWidth(IntBuffer dst) { gather(STBTTPackContext.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackContext.Buffer getHeight(int[] dst) { gather(STBTTPackContext.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackContext.Buffer getHeight(IntBuffer dst) { gather(STBTTPackContext.HEIGHT, dst); return this; }
+        /** Copies the {@code stride_in_bytes} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackContext.Buffer getStride_in_bytes(int[] dst) { gather(STBTTPackContext.STRIDE_IN_BYTES, dst); return this; }
+        /** Copies the {@code stride_in_bytes} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackContext.Buffer getStride_in_bytes(IntBuffer dst) { gather(STBTTPackContext.STRIDE_IN_BYTES, dst); return this; }
+        /** Copies the {@code padding} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackContext.Buffer getPadding(int[] dst) { gather(STBTTPackContext.PADDING, dst); return this; }
+        /** Copies the {@code padding} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackContext.Buffer getPadding(IntBuffer dst) { gather(STBTTPackContext.PADDING, dst); return this; }
+        /** Copies the {@code h_oversample} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackContext.Buffer getH_oversample(int[] dst) { gather(STBTTPackContext.H_OVERSAMPLE, dst); return this; }
+        /** Copies the {@code h_oversample} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackContext.Buffer getH_oversample(IntBuffer dst) { gather(STBTTPackContext.H_OVERSAMPLE, dst); return this; }
+        /** Copies the {@code v_oversample} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackContext.Buffer getV_oversample(int[] dst) { gather(STBTTPackContext.V_OVERSAMPLE, dst); return this; }
+        /** Copies the {@code v_oversample} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackContext.Buffer getV_oversample(IntBuffer dst) { gather(STBTTPackContext.V_OVERSAMPLE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
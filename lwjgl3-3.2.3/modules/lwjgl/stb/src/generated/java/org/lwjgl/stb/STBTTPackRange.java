@@ -270,6 +270,24 @@ public class STBTTPackRange extends Struct implements NativeResource {
         return wrap(STBTTPackRange.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTPackRange} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTPackRange malloc(MemoryArena arena) {
+        return wrap(STBTTPackRange.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTPackRange} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTPackRange calloc(MemoryArena arena) {
+        return wrap(STBTTPackRange.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTPackRange.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -308,6 +326,26 @@ public class STBTTPackRange extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTPackRange.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTPackRange.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTPackRange.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTPackRange.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #font_size}. */
@@ -434,6 +472,48 @@ public class STBTTPackRange extends Struct implements NativeResource {
         /** Sets the specified value to the {@code v_oversample} field. */
         public STBTTPackRange.Buffer v_oversample(@NativeType("unsigned char") byte value) { STBTTPackRange.nv_oversample(address(), value); return this; }
 
+        /** Copies the {@code font_size} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackRange.Buffer getFont_size(float[] dst) { gather(STBTTPackRange.FONT_SIZE, dst); return this; }
+        /** Copies the {@code font_size} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackRange.Buffer getFont_size(FloatBuffer dst) { gather(STBTTPackRange.FONT_SIZE, dst); return this; }
+        /** Copies the {@code first_unicode_codepoint_in_range} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackRange.Buffer getFirst_unicode_codepoint_in_range(int[] dst) { gather(STBTTPackRange.FIRST_UNICODE_CODEPOINT_IN_RANGE, dst); return this; }
+        /** Copies the {@code first_unicode_codepoint_in_range} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackRange.Buffer getFirst_unicode_codepoint_in_range(IntBuffer dst) { gather(STBTTPackRange.FIRST_UNICODE_CODEPOINT_IN_RANGE, dst); return this; }
+        /** Copies the {@code num_chars} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackRange.Buffer getNum_chars(int[] dst) { gather(STBTTPackRange.NUM_CHARS, dst); return this; }
+        /** Copies the {@code num_chars} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackRange.Buffer getNum_chars(IntBuffer dst) { gather(STBTTPackRange.NUM_CHARS, dst); return this; }
+        /** Copies the {@code h_oversample} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackRange.Buffer getH_oversample(byte[] dst) { gather(STBTTPackRange.H_OVERSAMPLE, dst); return this; }
+        /** Copies the {@code h_oversample} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackRange.Buffer getH_oversample(ByteBuffer dst) { gather(STBTTPackRange.H_OVERSAMPLE, dst); return this; }
+        /** Copies the {@code v_oversample} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackRange.Buffer getV_oversample(byte[] dst) { gather(STBTTPackRange.V_OVERSAMPLE, dst); return this; }
+        /** Copies the {@code v_oversample} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackRange.Buffer getV_oversample(ByteBuffer dst) { gather(STBTTPackRange.V_OVERSAMPLE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code font_size} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putFont_size(float[] src) { scatter(STBTTPackRange.FONT_SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code font_size} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putFont_size(FloatBuffer src) { scatter(STBTTPackRange.FONT_SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code first_unicode_codepoint_in_range} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putFirst_unicode_codepoint_in_range(int[] src) { scatter(STBTTPackRange.FIRST_UNICODE_CODEPOINT_IN_RANGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code first_unicode_codepoint_in_range} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putFirst_unicode_codepoint_in_range(IntBuffer src) { scatter(STBTTPackRange.FIRST_UNICODE_CODEPOINT_IN_RANGE, src); return this; }
+        /** Copies the values in the specified array to the {@code num_chars} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putNum_chars(int[] src) { scatter(STBTTPackRange.NUM_CHARS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_chars} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putNum_chars(IntBuffer src) { scatter(STBTTPackRange.NUM_CHARS, src); return this; }
+        /** Copies the values in the specified array to the {@code h_oversample} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putH_oversample(byte[] src) { scatter(STBTTPackRange.H_OVERSAMPLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code h_oversample} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putH_oversample(ByteBuffer src) { scatter(STBTTPackRange.H_OVERSAMPLE, src); return this; }
+        /** Copies the values in the specified array to the {@code v_oversample} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putV_oversample(byte[] src) { scatter(STBTTPackRange.V_OVERSAMPLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code v_oversample} field of the structs between the current position and limit. */
+        public STBTTPackRange.Buffer putV_oversample(ByteBuffer src) { scatter(STBTTPackRange.V_OVERSAMPLE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -276,6 +276,24 @@ public class STBTTPackedchar extends Struct implements NativeResource {
         return wrap(STBTTPackedchar.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTPackedchar} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTPackedchar malloc(MemoryArena arena) {
+        return wrap(STBTTPackedchar.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTPackedchar} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTPackedchar calloc(MemoryArena arena) {
+        return wrap(STBTTPackedchar.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTPackedchar.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -314,6 +332,26 @@ public class STBTTPackedchar extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTPackedchar.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTPackedchar.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTPackedchar.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTPackedchar.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x0}. */
@@ -434,6 +472,80 @@ public class STBTTPackedchar extends Struct implements NativeResource {
         /** Sets the specified value to the {@code yoff2} field. */
         public STBTTPackedchar.Buffer yoff2(float value) { STBTTPackedchar.nyoff2(address(), value); return this; }
 
+        /** Copies the {@code x0} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getX0(short[] dst) { gather(STBTTPackedchar.X0, dst); return this; }
+        /** Copies the {@code x0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getX0(ShortBuffer dst) { gather(STBTTPackedchar.X0, dst); return this; }
+        /** Copies the {@code y0} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getY0(short[] dst) { gather(STBTTPackedchar.Y0, dst); return this; }
+        /** Copies the {@code y0} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getY0(ShortBuffer dst) { gather(STBTTPackedchar.Y0, dst); return this; }
+        /** Copies the {@code x1} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getX1(short[] dst) { gather(STBTTPackedchar.X1, dst); return this; }
+        /** Copies the {@code x1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getX1(ShortBuffer dst) { gather(STBTTPackedchar.X1, dst); return this; }
+        /** Copies the {@code y1} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getY1(short[] dst) { gather(STBTTPackedchar.Y1, dst); return this; }
+        /** Copies the {@code y1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getY1(ShortBuffer dst) { gather(STBTTPackedchar.Y1, dst); return this; }
+        /** Copies the {@code xoff} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getXoff(float[] dst) { gather(STBTTPackedchar.XOFF, dst); return this; }
+        /** Copies the {@code xoff} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getXoff(FloatBuffer dst) { gather(STBTTPackedchar.XOFF, dst); return this; }
+        /** Copies the {@code yoff} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getYoff(float[] dst) { gather(STBTTPackedchar.YOFF, dst); return this; }
+        /** Copies the {@code yoff} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getYoff(FloatBuffer dst) { gather(STBTTPackedchar.YOFF, dst); return this; }
+        /** Copies the {@code xadvance} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getXadvance(float[] dst) { gather(STBTTPackedchar.XADVANCE, dst); return this; }
+        /** Copies the {@code xadvance} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getXadvance(FloatBuffer dst) { gather(STBTTPackedchar.XADVANCE, dst); return this; }
+        /** Copies the {@code xoff2} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getXoff2(float[] dst) { gather(STBTTPackedchar.XOFF2, dst); return this; }
+        /** Copies the {@code xoff2} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getXoff2(FloatBuffer dst) { gather(STBTTPackedchar.XOFF2, dst); return this; }
+        /** Copies the {@code yoff2} field of the structs between the current position and limit to the specified array. */
+        public STBTTPackedchar.Buffer getYoff2(float[] dst) { gather(STBTTPackedchar.YOFF2, dst); return this; }
+        /** Copies the {@code yoff2} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTPackedchar.Buffer getYoff2(FloatBuffer dst) { gather(STBTTPackedchar.YOFF2, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x0} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putX0(short[] src) { scatter(STBTTPackedchar.X0, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x0} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putX0(ShortBuffer src) { scatter(STBTTPackedchar.X0, src); return this; }
+        /** Copies the values in the specified array to the {@code y0} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putY0(short[] src) { scatter(STBTTPackedchar.Y0, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y0} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putY0(ShortBuffer src) { scatter(STBTTPackedchar.Y0, src); return this; }
+        /** Copies the values in the specified array to the {@code x1} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putX1(short[] src) { scatter(STBTTPackedchar.X1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x1} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putX1(ShortBuffer src) { scatter(STBTTPackedchar.X1, src); return this; }
+        /** Copies the values in the specified array to the {@code y1} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putY1(short[] src) { scatter(STBTTPackedchar.Y1, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y1} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putY1(ShortBuffer src) { scatter(STBTTPackedchar.Y1, src); return this; }
+        /** Copies the values in the specified array to the {@code xoff} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putXoff(float[] src) { scatter(STBTTPackedchar.XOFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code xoff} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putXoff(FloatBuffer src) { scatter(STBTTPackedchar.XOFF, src); return this; }
+        /** Copies the values in the specified array to the {@code yoff} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putYoff(float[] src) { scatter(STBTTPackedchar.YOFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code yoff} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putYoff(FloatBuffer src) { scatter(STBTTPackedchar.YOFF, src); return this; }
+        /** Copies the values in the specified array to the {@code xadvance} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putXadvance(float[] src) { scatter(STBTTPackedchar.XADVANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code xadvance} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putXadvance(FloatBuffer src) { scatter(STBTTPackedchar.XADVANCE, src); return this; }
+        /** Copies the values in the specified array to the {@code xoff2} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putXoff2(float[] src) { scatter(STBTTPackedchar.XOFF2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code xoff2} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putXoff2(FloatBuffer src) { scatter(STBTTPackedchar.XOFF2, src); return this; }
+        /** Copies the values in the specified array to the {@code yoff2} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putYoff2(float[] src) { scatter(STBTTPackedchar.YOFF2, src); return this; }
+        /** Copies the values in the specified buffer to the {@code yoff2} field of the structs between the current position and limit. */
+        public STBTTPackedchar.Buffer putYoff2(FloatBuffer src) { scatter(STBTTPackedchar.YOFF2, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -211,6 +211,24 @@ public class STBTTVertex extends Struct implements NativeResource {
         return wrap(STBTTVertex.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBTTVertex} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTVertex malloc(MemoryArena arena) {
+        return wrap(STBTTVertex.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBTTVertex} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBTTVertex calloc(MemoryArena arena) {
+        return wrap(STBTTVertex.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBTTVertex.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -249,6 +267,26 @@ public class STBTTVertex extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBTTVertex.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTVertex.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBTTVertex.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBTTVertex.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -326,6 +364,35 @@ public class STBTTVertex extends Struct implements NativeResource {
         @NativeType("unsigned char")
         public byte type() { return STBTTVertex.ntype(address()); }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getX(short[] dst) { gather(STBTTVertex.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getX(ShortBuffer dst) { gather(STBTTVertex.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getY(short[] dst) { gather(STBTTVertex.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getY(ShortBuffer dst) { gather(STBTTVertex.Y, dst); return this; }
+        /** Copies the {@code cx} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getCx(short[] dst) { gather(STBTTVertex.CX, dst); return this; }
+        /** Copies the {@code cx} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getCx(ShortBuffer dst) { gather(STBTTVertex.CX, dst); return this; }
+        /** Copies the {@code cy} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getCy(short[] dst) { gather(STBTTVertex.CY, dst); return this; }
+        /** Copies the {@code cy} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getCy(ShortBuffer dst) { gather(STBTTVertex.CY, dst); return this; }
+        /** Copies the {@code cx1} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getCx1(short[] dst) { gather(STBTTVertex.CX1, dst); return this; }
+        /** Copies the {@code cx1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getCx1(ShortBuffer dst) { gather(STBTTVertex.CX1, dst); return this; }
+        /** Copies the {@code cy1} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getCy1(short[] dst) { gather(STBTTVertex.CY1, dst); return this; }
+        /** Copies the {@code cy1} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getCy1(ShortBuffer dst) { gather(STBTTVertex.CY1, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public STBTTVertex.Buffer getType(byte[] dst) { gather(STBTTVertex.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public STBTTVertex.Buffer getType(ByteBuffer dst) { gather(STBTTVertex.TYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -336,6 +336,8 @@ public class STBTruetype {
         STBTT_MAC_LANG_CHINESE_SIMPLIFIED = 33,
         STBTT_MAC_LANG_CHINESE_TRAD       = 19;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBTruetype.class, "stbtt_BakeFontBitmap,stbtt_GetBakedQuad,stbtt_GetScaledFontVMetrics,stbtt_PackBegin,stbtt_PackEnd,stbtt_PackFontRange,stbtt_PackFontRanges,stbtt_PackSetOversampling,stbtt_PackSetSkipMissingCodepoints,stbtt_GetPackedQuad,stbtt_PackFontRangesGatherRects,stbtt_PackFontRangesPackRects,stbtt_PackFontRangesRenderIntoRects,stbtt_GetNumberOfFonts,stbtt_GetFontOffsetForIndex,stbtt_InitFont,stbtt_FindGlyphIndex,stbtt_ScaleForPixelHeight,stbtt_ScaleForMappingEmToPixels,stbtt_GetFontVMetrics,stbtt_GetFontVMetricsOS2,stbtt_GetFontBoundingBox,stbtt_GetCodepointHMetrics,stbtt_GetCodepointKernAdvance,stbtt_GetCodepointBox,stbtt_GetGlyphHMetrics,stbtt_GetGlyphKernAdvance,stbtt_GetGlyphBox,stbtt_IsGlyphEmpty,stbtt_GetCodepointShape,stbtt_GetGlyphShape,stbtt_FreeShape,stbtt_FreeBitmap,stbtt_GetCodepointBitmap,stbtt_GetCodepointBitmapSubpixel,stbtt_MakeCodepointBitmap,stbtt_MakeCodepointBitmapSubpixel,stbtt_MakeCodepointBitmapSubpixelPrefilter,stbtt_GetCodepointBitmapBox,stbtt_GetCodepointBitmapBoxSubpixel,stbtt_GetGlyphBitmap,stbtt_GetGlyphBitmapSubpixel,stbtt_MakeGlyphBitmap,stbtt_MakeGlyphBitmapSubpixel,stbtt_MakeGlyphBitmapSubpixelPrefilter,stbtt_GetGlyphBitmapBox,stbtt_GetGlyphBitmapBoxSubpixel,stbtt_Rasterize,stbtt_FreeSDF,stbtt_GetGlyphSDF,stbtt_GetCodepointSDF,stbtt_FindMatchingFont,stbtt_CompareUTF8toUTF16_bigendian,stbtt_GetFontNameString");
+
     static { LibSTB.initialize(); }
 
     protected STBTruetype() {
@@ -371,7 +373,8 @@ public class STBTruetype {
         if (CHECKS) {
             check(pixels, pw * ph);
         }
-        return nstbtt_BakeFontBitmap(memAddress(data), 0, pixel_height, memAddress(pixels), pw, ph, first_char, chardata.remaining(), chardata.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nstbtt_BakeFontBitmap(memAddress(data), 0, pixel_height, memAddress(pixels), pw, ph, first_char, chardata.remaining(), chardata.address()));
     }
 
     // --- [ stbtt_GetBakedQuad ] ---
@@ -400,7 +403,9 @@ public class STBTruetype {
             check(xpos, 1);
             check(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetBakedQuad(chardata.address(), pw, ph, char_index, memAddress(xpos), memAddress(ypos), q.address(), opengl_fillrule ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ stbtt_GetScaledFontVMetrics ] ---
@@ -423,7 +428,9 @@ public class STBTruetype {
             check(descent, 1);
             check(lineGap, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetScaledFontVMetrics(memAddress(fontdata), index, size, memAddress(ascent), memAddress(descent), memAddress(lineGap));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ stbtt_PackBegin ] ---
@@ -450,7 +457,8 @@ public class STBTruetype {
         if (CHECKS) {
             checkSafe(pixels, (stride_in_bytes != 0 ? stride_in_bytes : width) * height);
         }
-        return nstbtt_PackBegin(spc.address(), memAddressSafe(pixels), width, height, stride_in_bytes, padding, alloc_context) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nstbtt_PackBegin(spc.address(), memAddressSafe(pixels), width, height, stride_in_bytes, padding, alloc_context)) != 0;
     }
 
     /**
@@ -471,7 +479,8 @@ public class STBTruetype {
         if (CHECKS) {
             checkSafe(pixels, (stride_in_bytes != 0 ? stride_in_bytes : width) * height);
         }
-        return nstbtt_PackBegin(spc.address(), memAddressSafe(pixels), width, height, stride_in_bytes, padding, NULL) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nstbtt_PackBegin(spc.address(), memAddressSafe(pixels), width, height, stride_in_bytes, padding, NULL)) != 0;
     }
 
     // --- [ stbtt_PackEnd ] ---
@@ -485,7 +494,9 @@ public class STBTruetype {
      * @param spc an {@link STBTTPackContext} struct
      */
     public static void stbtt_PackEnd(@NativeType("stbtt_pack_context *") STBTTPackContext spc) {
+        long __start = FunctionProfiler.start();
         nstbtt_PackEnd(spc.address());
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ STBTT_POINT_SIZE ] ---
@@ -532,7 +543,8 @@ public class STBTruetype {
      */
     @NativeType("int")
     public static boolean stbtt_PackFontRange(@NativeType("stbtt_pack_context *") STBTTPackContext spc, @NativeType("unsigned char const *") ByteBuffer fontdata, int font_index, float font_size, int first_unicode_char_in_range, @NativeType("stbtt_packedchar *") STBTTPackedchar.Buffer chardata_for_range) {
-        return nstbtt_PackFontRange(spc.address(), memAddress(fontdata), font_index, font_size, first_unicode_char_in_range, chardata_for_range.remaining(), chardata_for_range.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nstbtt_PackFontRange(spc.address(), memAddress(fontdata), font_index, font_size, first_unicode_char_in_range, chardata_for_range.remaining(), chardata_for_range.address())) != 0;
     }
 
     // --- [ stbtt_PackFontRanges ] ---
@@ -560,7 +572,8 @@ public class STBTruetype {
         if (CHECKS) {
             STBTTPackRange.validate(ranges.address(), ranges.remaining());
         }
-        return nstbtt_PackFontRanges(spc.address(), memAddress(fontdata), font_index, ranges.address(), ranges.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nstbtt_PackFontRanges(spc.address(), memAddress(fontdata), font_index, ranges.address(), ranges.remaining())) != 0;
     }
 
     // --- [ stbtt_PackSetOversampling ] ---
@@ -584,7 +597,9 @@ public class STBTruetype {
      * @param v_oversample the vertical oversampling amount
      */
     public static void stbtt_PackSetOversampling(@NativeType("stbtt_pack_context *") STBTTPackContext spc, @NativeType("unsigned int") int h_oversample, @NativeType("unsigned int") int v_oversample) {
+        long __start = FunctionProfiler.start();
         nstbtt_PackSetOversampling(spc.address(), h_oversample, v_oversample);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ stbtt_PackSetSkipMissingCodepoints ] ---
@@ -600,7 +615,9 @@ public class STBTruetype {
      * @param skip the skip flag
      */
     public static void stbtt_PackSetSkipMissingCodepoints(@NativeType("stbtt_pack_context *") STBTTPackContext spc, @NativeType("int") boolean skip) {
+        long __start = FunctionProfiler.start();
         nstbtt_PackSetSkipMissingCodepoints(spc.address(), skip ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ stbtt_GetPackedQuad ] ---
@@ -629,7 +646,9 @@ public class STBTruetype {
             check(xpos, 1);
             check(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetPackedQuad(chardata.address(), pw, ph, char_index, memAddress(xpos), memAddress(ypos), q.address(), align_to_integer ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     // --- [ stbtt_PackFontRangesGatherRects ] ---
@@ -658,7 +677,8 @@ public class STBTruetype {
         if (CHECKS) {
             STBTTPackRange.validate(ranges.address(), ranges.remaining());
         }
-        return nstbtt_PackFontRangesGatherRects(spc.address(), info.address(), ranges.address(), ranges.remaining(), rects.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nstbtt_PackFontRangesGatherRects(spc.address(), info.address(), ranges.address(), ranges.remaining(), rects.address()));
     }
 
     // --- [ stbtt_PackFontRangesPackRects ] ---
@@ -677,7 +697,9 @@ public class STBTruetype {
      * @param rects an array of {@link STBRPRect} structs
      */
     public static void stbtt_PackFontRangesPackRects(@NativeType("stbtt_pack_context *") STBTTPackContext spc, @NativeType("stbrp_rect *") STBRPRect.Buffer rects) {
+        long __start = FunctionProfiler.start();
         nstbtt_PackFontRangesPackRects(spc.address(), rects.address(), rects.remaining());
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     // --- [ stbtt_PackFontRangesRenderIntoRects ] ---
@@ -704,7 +726,8 @@ public class STBTruetype {
         if (CHECKS) {
             STBTTPackRange.validate(ranges.address(), ranges.remaining());
         }
-        return nstbtt_PackFontRangesRenderIntoRects(spc.address(), info.address(), ranges.address(), ranges.remaining(), rects.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nstbtt_PackFontRangesRenderIntoRects(spc.address(), info.address(), ranges.address(), ranges.remaining(), rects.address())) != 0;
     }
 
     // --- [ stbtt_GetNumberOfFonts ] ---
@@ -721,7 +744,8 @@ public class STBTruetype {
      * @param data the font data
      */
     public static int stbtt_GetNumberOfFonts(@NativeType("unsigned char const *") ByteBuffer data) {
-        return nstbtt_GetNumberOfFonts(memAddress(data));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nstbtt_GetNumberOfFonts(memAddress(data)));
     }
 
     // --- [ stbtt_GetFontOffsetForIndex ] ---
@@ -738,7 +762,8 @@ public class STBTruetype {
      * @param index the font index
      */
     public static int stbtt_GetFontOffsetForIndex(@NativeType("unsigned char const *") ByteBuffer data, int index) {
-        return nstbtt_GetFontOffsetForIndex(memAddress(data), index);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nstbtt_GetFontOffsetForIndex(memAddress(data), index));
     }
 
     // --- [ stbtt_InitFont ] ---
@@ -759,7 +784,8 @@ public class STBTruetype {
      */
     @NativeType("int")
     public static boolean stbtt_InitFont(@NativeType("stbtt_fontinfo *") STBTTFontinfo info, @NativeType("unsigned char const *") ByteBuffer data, int offset) {
-        return nstbtt_InitFont(info.address(), memAddress(data), offset) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nstbtt_InitFont(info.address(), memAddress(data), offset)) != 0;
     }
 
     /**
@@ -774,7 +800,8 @@ public class STBTruetype {
      */
     @NativeType("int")
     public static boolean stbtt_InitFont(@NativeType("stbtt_fontinfo *") STBTTFontinfo info, @NativeType("unsigned char const *") ByteBuffer data) {
-        return nstbtt_InitFont(info.address(), memAddress(data), 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nstbtt_InitFont(info.address(), memAddress(data), 0)) != 0;
     }
 
     // --- [ stbtt_FindGlyphIndex ] ---
@@ -792,7 +819,8 @@ public class STBTruetype {
      * @return the glyph index or 0 if the character codepoint is not defined in the font
      */
     public static int stbtt_FindGlyphIndex(@NativeType("stbtt_fontinfo const *") STBTTFontinfo info, int unicode_codepoint) {
-        return nstbtt_FindGlyphIndex(info.address(), unicode_codepoint);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nstbtt_FindGlyphIndex(info.address(), unicode_codepoint));
     }
 
     // --- [ stbtt_ScaleForPixelHeight ] ---
@@ -815,7 +843,8 @@ public class STBTruetype {
      * @return the scale factor
      */
     public static float stbtt_ScaleForPixelHeight(@NativeType("stbtt_fontinfo const *") STBTTFontinfo info, float pixels) {
-        return nstbtt_ScaleForPixelHeight(info.address(), pixels);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nstbtt_ScaleForPixelHeight(info.address(), pixels));
     }
 
     // --- [ stbtt_ScaleForMappingEmToPixels ] ---
@@ -833,7 +862,8 @@ public class STBTruetype {
      * @return the scale factor
      */
     public static float stbtt_ScaleForMappingEmToPixels(@NativeType("stbtt_fontinfo const *") STBTTFontinfo info, float pixels) {
-        return nstbtt_ScaleForMappingEmToPixels(info.address(), pixels);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nstbtt_ScaleForMappingEmToPixels(info.address(), pixels));
     }
 
     // --- [ stbtt_GetFontVMetrics ] ---
@@ -857,7 +887,9 @@ public class STBTruetype {
             checkSafe(descent, 1);
             checkSafe(lineGap, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetFontVMetrics(info.address(), memAddressSafe(ascent), memAddressSafe(descent), memAddressSafe(lineGap));
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     // --- [ stbtt_GetFontVMetricsOS2 ] ---
@@ -882,7 +914,8 @@ public class STBTruetype {
             checkSafe(typoDescent, 1);
             checkSafe(typoLineGap, 1);
         }
-        return nstbtt_GetFontVMetricsOS2(info.address(), memAddressSafe(typoAscent), memAddressSafe(typoDescent), memAddressSafe(typoLineGap)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nstbtt_GetFontVMetricsOS2(info.address(), memAddressSafe(typoAscent), memAddressSafe(typoDescent), memAddressSafe(typoLineGap))) != 0;
     }
 
     // --- [ stbtt_GetFontBoundingBox ] ---
@@ -906,7 +939,9 @@ public class STBTruetype {
             check(x1, 1);
             check(y1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetFontBoundingBox(info.address(), memAddress(x0), memAddress(y0), memAddress(x1), memAddress(y1));
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ stbtt_GetCodepointHMetrics ] ---
@@ -929,7 +964,9 @@ public class STBTruetype {
             checkSafe(advanceWidth, 1);
             checkSafe(leftSideBearing, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetCodepointHMetrics(info.address(), codepoint, memAddressSafe(advanceWidth), memAddressSafe(leftSideBearing));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ stbtt_GetCodepointKernAdvance ] ---
@@ -945,7 +982,8 @@ public class STBTruetype {
      * @param ch2  the second unicode codepoint
      */
     public static int stbtt_GetCodepointKernAdvance(@NativeType("stbtt_fontinfo const *") STBTTFontinfo info, int ch1, int ch2) {
-        return nstbtt_GetCodepointKernAdvance(info.address(), ch1, ch2);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nstbtt_GetCodepointKernAdvance(info.address(), ch1, ch2));
     }
 
     // --- [ stbtt_GetCodepointBox ] ---
@@ -971,7 +1009,8 @@ public class STBTruetype {
             checkSafe(x1, 1);
             checkSafe(y1, 1);
         }
-        return nstbtt_GetCodepointBox(info.address(), codepoint, memAddressSafe(x0), memAddressSafe(y0), memAddressSafe(x1), memAddressSafe(y1)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nstbtt_GetCodepointBox(info.address(), codepoint, memAddressSafe(x0), memAddressSafe(y0), memAddressSafe(x1), memAddressSafe(y1))) != 0;
     }
 
     // --- [ stbtt_GetGlyphHMetrics ] ---
@@ -992,7 +1031,9 @@ public class STBTruetype {
             checkSafe(advanceWidth, 1);
             checkSafe(leftSideBearing, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetGlyphHMetrics(info.address(), glyph_index, memAddressSafe(advanceWidth), memAddressSafe(leftSideBearing));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ stbtt_GetGlyphKernAdvance ] ---
@@ -1008,7 +1049,8 @@ public class STBTruetype {
      * @param glyph2 the second glyph index
      */
     public static int stbtt_GetGlyphKernAdvance(@NativeType("stbtt_fontinfo const *") STBTTFontinfo info, int glyph1, int glyph2) {
-        return nstbtt_GetGlyphKernAdvance(info.address(), glyph1, glyph2);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nstbtt_GetGlyphKernAdvance(info.address(), glyph1, glyph2));
     }
 
     // --- [ stbtt_GetGlyphBox ] ---
@@ -1034,7 +1076,8 @@ public class STBTruetype {
             checkSafe(x1, 1);
             checkSafe(y1, 1);
         }
-        return nstbtt_GetGlyphBox(info.address(), glyph_index, memAddressSafe(x0), memAddressSafe(y0), memAddressSafe(x1), memAddressSafe(y1)) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nstbtt_GetGlyphBox(info.address(), glyph_index, memAddressSafe(x0), memAddressSafe(y0), memAddressSafe(x1), memAddressSafe(y1))) != 0;
     }
 
     // --- [ stbtt_IsGlyphEmpty ] ---
@@ -1050,7 +1093,8 @@ public class STBTruetype {
      */
     @NativeType("int")
     public static boolean stbtt_IsGlyphEmpty(@NativeType("stbtt_fontinfo const *") STBTTFontinfo info, int glyph_index) {
-        return nstbtt_IsGlyphEmpty(info.address(), glyph_index) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nstbtt_IsGlyphEmpty(info.address(), glyph_index)) != 0;
     }
 
     // --- [ stbtt_GetCodepointShape ] ---
@@ -1075,7 +1119,8 @@ public class STBTruetype {
         if (CHECKS) {
             check(vertices, 1);
         }
-        return nstbtt_GetCodepointShape(info.address(), unicode_codepoint, memAddress(vertices));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nstbtt_GetCodepointShape(info.address(), unicode_codepoint, memAddress(vertices)));
     }
 
     /**
@@ -1096,7 +1141,8 @@ public class STBTruetype {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer vertices = stack.pointers(NULL);
-            int __result = nstbtt_GetCodepointShape(info.address(), unicode_codepoint, memAddress(vertices));
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 29, __start, nstbtt_GetCodepointShape(info.address(), unicode_codepoint, memAddress(vertices)));
             return STBTTVertex.createSafe(vertices.get(0), __result);
         } finally {
             stack.setPointer(stackPointer);
@@ -1119,7 +1165,8 @@ public class STBTruetype {
         if (CHECKS) {
             check(vertices, 1);
         }
-        return nstbtt_GetGlyphShape(info.address(), glyph_index, memAddress(vertices));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, nstbtt_GetGlyphShape(info.address(), glyph_index, memAddress(vertices)));
     }
 
     /**
@@ -1134,7 +1181,8 @@ public class STBTruetype {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer vertices = stack.pointers(NULL);
-            int __result = nstbtt_GetGlyphShape(info.address(), glyph_index, memAddress(vertices));
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 30, __start, nstbtt_GetGlyphShape(info.address(), glyph_index, memAddress(vertices)));
             return STBTTVertex.createSafe(vertices.get(0), __result);
         } finally {
             stack.setPointer(stackPointer);
@@ -1156,7 +1204,9 @@ public class STBTruetype {
         if (CHECKS) {
             check(vertices, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_FreeShape(info.address(), vertices.address());
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ stbtt_FreeBitmap ] ---
@@ -1171,7 +1221,9 @@ public class STBTruetype {
      * @param userdata a pointer to an allocation context
      */
     public static void stbtt_FreeBitmap(@NativeType("unsigned char *") ByteBuffer bitmap, @NativeType("void *") long userdata) {
+        long __start = FunctionProfiler.start();
         nstbtt_FreeBitmap(memAddress(bitmap), userdata);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -1180,7 +1232,9 @@ public class STBTruetype {
      * @param bitmap the bitmap to free
      */
     public static void stbtt_FreeBitmap(@NativeType("unsigned char *") ByteBuffer bitmap) {
+        long __start = FunctionProfiler.start();
         nstbtt_FreeBitmap(memAddress(bitmap), NULL);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ stbtt_GetCodepointBitmap ] ---
@@ -1209,7 +1263,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetCodepointBitmap(info.address(), scale_x, scale_y, codepoint, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 33, __start, nstbtt_GetCodepointBitmap(info.address(), scale_x, scale_y, codepoint, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff)));
         return memByteBufferSafe(__result, width.get(width.position()) * height.get(height.position()));
     }
 
@@ -1241,7 +1296,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetCodepointBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, codepoint, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 34, __start, nstbtt_GetCodepointBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, codepoint, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff)));
         return memByteBufferSafe(__result, width.get(width.position()) * height.get(height.position()));
     }
 
@@ -1267,7 +1323,9 @@ public class STBTruetype {
         if (CHECKS) {
             check(output, (out_stride != 0 ? out_stride : out_w) * out_h);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeCodepointBitmap(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, codepoint);
+        FunctionProfiler.end(PROFILE_ID + 35, __start);
     }
 
     // --- [ stbtt_MakeCodepointBitmapSubpixel ] ---
@@ -1293,7 +1351,9 @@ public class STBTruetype {
         if (CHECKS) {
             check(output, (out_stride != 0 ? out_stride : out_w) * out_h);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeCodepointBitmapSubpixel(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, shift_x, shift_y, codepoint);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     // --- [ stbtt_MakeCodepointBitmapSubpixelPrefilter ] ---
@@ -1325,7 +1385,9 @@ public class STBTruetype {
             check(sub_x, 1);
             check(sub_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeCodepointBitmapSubpixelPrefilter(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, shift_x, shift_y, oversample_x, oversample_y, memAddress(sub_x), memAddress(sub_y), codepoint);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ stbtt_GetCodepointBitmapBox ] ---
@@ -1355,7 +1417,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetCodepointBitmapBox(font.address(), codepoint, scale_x, scale_y, memAddressSafe(ix0), memAddressSafe(iy0), memAddressSafe(ix1), memAddressSafe(iy1));
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     // --- [ stbtt_GetCodepointBitmapBoxSubpixel ] ---
@@ -1384,7 +1448,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetCodepointBitmapBoxSubpixel(font.address(), codepoint, scale_x, scale_y, shift_x, shift_y, memAddressSafe(ix0), memAddressSafe(iy0), memAddressSafe(ix1), memAddressSafe(iy1));
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ stbtt_GetGlyphBitmap ] ---
@@ -1413,7 +1479,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetGlyphBitmap(info.address(), scale_x, scale_y, glyph, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 40, __start, nstbtt_GetGlyphBitmap(info.address(), scale_x, scale_y, glyph, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff)));
         return memByteBufferSafe(__result, width.get(width.position()) * height.get(height.position()));
     }
 
@@ -1445,7 +1512,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetGlyphBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, glyph, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 41, __start, nstbtt_GetGlyphBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, glyph, memAddress(width), memAddress(height), memAddressSafe(xoff), memAddressSafe(yoff)));
         return memByteBufferSafe(__result, width.get(width.position()) * height.get(height.position()));
     }
 
@@ -1471,7 +1539,9 @@ public class STBTruetype {
         if (CHECKS) {
             check(output, (out_stride != 0 ? out_stride : out_w) * out_h);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeGlyphBitmap(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, glyph);
+        FunctionProfiler.end(PROFILE_ID + 42, __start);
     }
 
     // --- [ stbtt_MakeGlyphBitmapSubpixel ] ---
@@ -1497,7 +1567,9 @@ public class STBTruetype {
         if (CHECKS) {
             check(output, (out_stride != 0 ? out_stride : out_w) * out_h);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeGlyphBitmapSubpixel(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, shift_x, shift_y, glyph);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ stbtt_MakeGlyphBitmapSubpixelPrefilter ] ---
@@ -1529,7 +1601,9 @@ public class STBTruetype {
             check(sub_x, 1);
             check(sub_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeGlyphBitmapSubpixelPrefilter(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, shift_x, shift_y, oversample_x, oversample_y, memAddress(sub_x), memAddress(sub_y), glyph);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     // --- [ stbtt_GetGlyphBitmapBox ] ---
@@ -1559,7 +1633,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetGlyphBitmapBox(font.address(), glyph, scale_x, scale_y, memAddressSafe(ix0), memAddressSafe(iy0), memAddressSafe(ix1), memAddressSafe(iy1));
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ stbtt_GetGlyphBitmapBoxSubpixel ] ---
@@ -1588,7 +1664,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetGlyphBitmapBoxSubpixel(font.address(), glyph, scale_x, scale_y, shift_x, shift_y, memAddressSafe(ix0), memAddressSafe(iy0), memAddressSafe(ix1), memAddressSafe(iy1));
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     // --- [ stbtt_Rasterize ] ---
@@ -1615,7 +1693,9 @@ public class STBTruetype {
      * @param invert             if non-zero, vertically flip shape
      */
     public static void stbtt_Rasterize(@NativeType("stbtt__bitmap *") STBTTBitmap result, float flatness_in_pixels, @NativeType("stbtt_vertex *") STBTTVertex.Buffer vertices, float scale_x, float scale_y, float shift_x, float shift_y, int x_off, int y_off, @NativeType("int") boolean invert) {
+        long __start = FunctionProfiler.start();
         nstbtt_Rasterize(result.address(), flatness_in_pixels, vertices.address(), vertices.remaining(), scale_x, scale_y, shift_x, shift_y, x_off, y_off, invert ? 1 : 0, NULL);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ stbtt_FreeSDF ] ---
@@ -1630,7 +1710,9 @@ public class STBTruetype {
      * @param userdata a pointer to an allocation context
      */
     public static void stbtt_FreeSDF(@NativeType("unsigned char *") ByteBuffer bitmap, @NativeType("void *") long userdata) {
+        long __start = FunctionProfiler.start();
         nstbtt_FreeSDF(memAddress(bitmap), userdata);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -1639,7 +1721,9 @@ public class STBTruetype {
      * @param bitmap the SDF bitmap to free
      */
     public static void stbtt_FreeSDF(@NativeType("unsigned char *") ByteBuffer bitmap) {
+        long __start = FunctionProfiler.start();
         nstbtt_FreeSDF(memAddress(bitmap), NULL);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     // --- [ stbtt_GetGlyphSDF ] ---
@@ -1696,7 +1780,8 @@ public class STBTruetype {
             check(xoff, 1);
             check(yoff, 1);
         }
-        long __result = nstbtt_GetGlyphSDF(font.address(), scale, glyph, padding, onedge_value, pixel_dist_scale, memAddress(width), memAddress(height), memAddress(xoff), memAddress(yoff));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 49, __start, nstbtt_GetGlyphSDF(font.address(), scale, glyph, padding, onedge_value, pixel_dist_scale, memAddress(width), memAddress(height), memAddress(xoff), memAddress(yoff)));
         return memByteBufferSafe(__result, width.get(width.position()) * height.get(height.position()));
     }
 
@@ -1729,7 +1814,8 @@ public class STBTruetype {
             check(xoff, 1);
             check(yoff, 1);
         }
-        long __result = nstbtt_GetCodepointSDF(font.address(), scale, codepoint, padding, onedge_value, pixel_dist_scale, memAddress(width), memAddress(height), memAddress(xoff), memAddress(yoff));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 50, __start, nstbtt_GetCodepointSDF(font.address(), scale, codepoint, padding, onedge_value, pixel_dist_scale, memAddress(width), memAddress(height), memAddress(xoff), memAddress(yoff)));
         return memByteBufferSafe(__result, width.get(width.position()) * height.get(height.position()));
     }
 
@@ -1752,7 +1838,8 @@ public class STBTruetype {
         if (CHECKS) {
             checkNT1(name);
         }
-        return nstbtt_FindMatchingFont(memAddress(fontdata), memAddress(name), flags);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, nstbtt_FindMatchingFont(memAddress(fontdata), memAddress(name), flags));
     }
 
     /**
@@ -1770,7 +1857,8 @@ public class STBTruetype {
         try {
             stack.nUTF8(name, true);
             long nameEncoded = stack.getPointerAddress();
-            return nstbtt_FindMatchingFont(memAddress(fontdata), nameEncoded, flags);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 51, __start, nstbtt_FindMatchingFont(memAddress(fontdata), nameEncoded, flags));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1795,7 +1883,8 @@ public class STBTruetype {
      */
     @NativeType("int")
     public static boolean stbtt_CompareUTF8toUTF16_bigendian(@NativeType("char const *") ByteBuffer s1, @NativeType("char const *") ByteBuffer s2) {
-        return nstbtt_CompareUTF8toUTF16_bigendian(memAddress(s1), s1.remaining(), memAddress(s2), s2.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, nstbtt_CompareUTF8toUTF16_bigendian(memAddress(s1), s1.remaining(), memAddress(s2), s2.remaining())) != 0;
     }
 
     // --- [ stbtt_GetFontNameString ] ---
@@ -1829,7 +1918,8 @@ public class STBTruetype {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         IntBuffer length = stack.callocInt(1);
         try {
-            long __result = nstbtt_GetFontNameString(font.address(), memAddress(length), platformID, encodingID, languageID, nameID);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 53, __start, nstbtt_GetFontNameString(font.address(), memAddress(length), platformID, encodingID, languageID, nameID));
             return memByteBufferSafe(__result, length.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -1846,7 +1936,9 @@ public class STBTruetype {
             check(xpos, 1);
             check(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetBakedQuad(chardata.address(), pw, ph, char_index, xpos, ypos, q.address(), opengl_fillrule ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetScaledFontVMetrics} */
@@ -1859,7 +1951,9 @@ public class STBTruetype {
             check(descent, 1);
             check(lineGap, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetScaledFontVMetrics(memAddress(fontdata), index, size, ascent, descent, lineGap);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetPackedQuad} */
@@ -1872,7 +1966,9 @@ public class STBTruetype {
             check(xpos, 1);
             check(ypos, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetPackedQuad(chardata.address(), pw, ph, char_index, xpos, ypos, q.address(), align_to_integer ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetFontVMetrics} */
@@ -1885,7 +1981,9 @@ public class STBTruetype {
             checkSafe(descent, 1);
             checkSafe(lineGap, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetFontVMetrics(info.address(), ascent, descent, lineGap);
+        FunctionProfiler.end(PROFILE_ID + 19, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetFontVMetricsOS2} */
@@ -1899,7 +1997,8 @@ public class STBTruetype {
             checkSafe(typoDescent, 1);
             checkSafe(typoLineGap, 1);
         }
-        return nstbtt_GetFontVMetricsOS2(info.address(), typoAscent, typoDescent, typoLineGap) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nstbtt_GetFontVMetricsOS2(info.address(), typoAscent, typoDescent, typoLineGap)) != 0;
     }
 
     /** Array version of: {@link #nstbtt_GetFontBoundingBox} */
@@ -1913,7 +2012,9 @@ public class STBTruetype {
             check(x1, 1);
             check(y1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetFontBoundingBox(info.address(), x0, y0, x1, y1);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetCodepointHMetrics} */
@@ -1925,7 +2026,9 @@ public class STBTruetype {
             checkSafe(advanceWidth, 1);
             checkSafe(leftSideBearing, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetCodepointHMetrics(info.address(), codepoint, advanceWidth, leftSideBearing);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetCodepointBox} */
@@ -1940,7 +2043,8 @@ public class STBTruetype {
             checkSafe(x1, 1);
             checkSafe(y1, 1);
         }
-        return nstbtt_GetCodepointBox(info.address(), codepoint, x0, y0, x1, y1) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nstbtt_GetCodepointBox(info.address(), codepoint, x0, y0, x1, y1)) != 0;
     }
 
     /** Array version of: {@link #nstbtt_GetGlyphHMetrics} */
@@ -1952,7 +2056,9 @@ public class STBTruetype {
             checkSafe(advanceWidth, 1);
             checkSafe(leftSideBearing, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetGlyphHMetrics(info.address(), glyph_index, advanceWidth, leftSideBearing);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetGlyphBox} */
@@ -1967,7 +2073,8 @@ public class STBTruetype {
             checkSafe(x1, 1);
             checkSafe(y1, 1);
         }
-        return nstbtt_GetGlyphBox(info.address(), glyph_index, x0, y0, x1, y1) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nstbtt_GetGlyphBox(info.address(), glyph_index, x0, y0, x1, y1)) != 0;
     }
 
     /** Array version of: {@link #nstbtt_GetCodepointBitmap} */
@@ -1983,7 +2090,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetCodepointBitmap(info.address(), scale_x, scale_y, codepoint, width, height, xoff, yoff);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 33, __start, nstbtt_GetCodepointBitmap(info.address(), scale_x, scale_y, codepoint, width, height, xoff, yoff));
         return memByteBufferSafe(__result, width[0] * height[0]);
     }
 
@@ -2000,7 +2108,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetCodepointBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, codepoint, width, height, xoff, yoff);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 34, __start, nstbtt_GetCodepointBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, codepoint, width, height, xoff, yoff));
         return memByteBufferSafe(__result, width[0] * height[0]);
     }
 
@@ -2014,7 +2123,9 @@ public class STBTruetype {
             check(sub_x, 1);
             check(sub_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeCodepointBitmapSubpixelPrefilter(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, shift_x, shift_y, oversample_x, oversample_y, sub_x, sub_y, codepoint);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetCodepointBitmapBox} */
@@ -2028,7 +2139,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetCodepointBitmapBox(font.address(), codepoint, scale_x, scale_y, ix0, iy0, ix1, iy1);
+        FunctionProfiler.end(PROFILE_ID + 38, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetCodepointBitmapBoxSubpixel} */
@@ -2042,7 +2155,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetCodepointBitmapBoxSubpixel(font.address(), codepoint, scale_x, scale_y, shift_x, shift_y, ix0, iy0, ix1, iy1);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetGlyphBitmap} */
@@ -2058,7 +2173,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetGlyphBitmap(info.address(), scale_x, scale_y, glyph, width, height, xoff, yoff);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 40, __start, nstbtt_GetGlyphBitmap(info.address(), scale_x, scale_y, glyph, width, height, xoff, yoff));
         return memByteBufferSafe(__result, width[0] * height[0]);
     }
 
@@ -2075,7 +2191,8 @@ public class STBTruetype {
             checkSafe(xoff, 1);
             checkSafe(yoff, 1);
         }
-        long __result = nstbtt_GetGlyphBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, glyph, width, height, xoff, yoff);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 41, __start, nstbtt_GetGlyphBitmapSubpixel(info.address(), scale_x, scale_y, shift_x, shift_y, glyph, width, height, xoff, yoff));
         return memByteBufferSafe(__result, width[0] * height[0]);
     }
 
@@ -2089,7 +2206,9 @@ public class STBTruetype {
             check(sub_x, 1);
             check(sub_y, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_MakeGlyphBitmapSubpixelPrefilter(info.address(), memAddress(output), out_w, out_h, out_stride, scale_x, scale_y, shift_x, shift_y, oversample_x, oversample_y, sub_x, sub_y, glyph);
+        FunctionProfiler.end(PROFILE_ID + 44, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetGlyphBitmapBox} */
@@ -2103,7 +2222,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetGlyphBitmapBox(font.address(), glyph, scale_x, scale_y, ix0, iy0, ix1, iy1);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetGlyphBitmapBoxSubpixel} */
@@ -2117,7 +2238,9 @@ public class STBTruetype {
             checkSafe(ix1, 1);
             checkSafe(iy1, 1);
         }
+        long __start = FunctionProfiler.start();
         nstbtt_GetGlyphBitmapBoxSubpixel(font.address(), glyph, scale_x, scale_y, shift_x, shift_y, ix0, iy0, ix1, iy1);
+        FunctionProfiler.end(PROFILE_ID + 46, __start);
     }
 
     /** Array version of: {@link #nstbtt_GetGlyphSDF} */
@@ -2133,7 +2256,8 @@ public class STBTruetype {
             check(xoff, 1);
             check(yoff, 1);
         }
-        long __result = nstbtt_GetGlyphSDF(font.address(), scale, glyph, padding, onedge_value, pixel_dist_scale, width, height, xoff, yoff);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 49, __start, nstbtt_GetGlyphSDF(font.address(), scale, glyph, padding, onedge_value, pixel_dist_scale, width, height, xoff, yoff));
         return memByteBufferSafe(__result, width[0] * height[0]);
     }
 
@@ -2150,7 +2274,8 @@ public class STBTruetype {
             check(xoff, 1);
             check(yoff, 1);
         }
-        long __result = nstbtt_GetCodepointSDF(font.address(), scale, codepoint, padding, onedge_value, pixel_dist_scale, width, height, xoff, yoff);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 50, __start, nstbtt_GetCodepointSDF(font.address(), scale, codepoint, padding, onedge_value, pixel_dist_scale, width, height, xoff, yoff));
         return memByteBufferSafe(__result, width[0] * height[0]);
     }
 
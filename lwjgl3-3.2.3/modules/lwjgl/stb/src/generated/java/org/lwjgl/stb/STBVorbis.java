@@ -104,6 +104,8 @@ public class STBVorbis {
         VORBIS_seek_failed                      = 37,
         VORBIS_ogg_skeleton_not_supported       = 38;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(STBVorbis.class, "stb_vorbis_get_info,stb_vorbis_get_error,stb_vorbis_close,stb_vorbis_get_sample_offset,stb_vorbis_get_file_offset,stb_vorbis_open_pushdata,stb_vorbis_decode_frame_pushdata,stb_vorbis_flush_pushdata,stb_vorbis_decode_filename,stb_vorbis_decode_memory,stb_vorbis_open_memory,stb_vorbis_open_filename,stb_vorbis_seek_frame,stb_vorbis_seek,stb_vorbis_seek_start,stb_vorbis_stream_length_in_samples,stb_vorbis_stream_length_in_seconds,stb_vorbis_get_frame_float,stb_vorbis_get_frame_short,stb_vorbis_get_frame_short_interleaved,stb_vorbis_get_samples_float,stb_vorbis_get_samples_float_interleaved,stb_vorbis_get_samples_short,stb_vorbis_get_samples_short_interleaved");
+
     static { LibSTB.initialize(); }
 
     protected STBVorbis() {
@@ -125,7 +127,9 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
+        long __start = FunctionProfiler.start();
         nstb_vorbis_get_info(f, __result.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
         return __result;
     }
 
@@ -143,7 +147,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_error(f);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nstb_vorbis_get_error(f));
     }
 
     // --- [ stb_vorbis_close ] ---
@@ -160,7 +165,9 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
+        long __start = FunctionProfiler.start();
         nstb_vorbis_close(f);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ stb_vorbis_get_sample_offset ] ---
@@ -180,7 +187,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_sample_offset(f);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nstb_vorbis_get_sample_offset(f));
     }
 
     // --- [ stb_vorbis_get_file_offset ] ---
@@ -198,7 +206,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_file_offset(f);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nstb_vorbis_get_file_offset(f));
     }
 
     // --- [ stb_vorbis_open_pushdata ] ---
@@ -231,7 +240,8 @@ public class STBVorbis {
             check(error, 1);
             if (alloc_buffer != null) { STBVorbisAlloc.validate(alloc_buffer.address()); }
         }
-        return nstb_vorbis_open_pushdata(memAddress(datablock), datablock.remaining(), memAddress(datablock_memory_consumed_in_bytes), memAddress(error), memAddressSafe(alloc_buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nstb_vorbis_open_pushdata(memAddress(datablock), datablock.remaining(), memAddress(datablock_memory_consumed_in_bytes), memAddress(error), memAddressSafe(alloc_buffer)));
     }
 
     // --- [ stb_vorbis_decode_frame_pushdata ] ---
@@ -276,7 +286,8 @@ public class STBVorbis {
             check(output, 1);
             check(samples, 1);
         }
-        return nstb_vorbis_decode_frame_pushdata(f, memAddress(datablock), datablock.remaining(), memAddressSafe(channels), memAddress(output), memAddress(samples));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nstb_vorbis_decode_frame_pushdata(f, memAddress(datablock), datablock.remaining(), memAddressSafe(channels), memAddress(output), memAddress(samples)));
     }
 
     // --- [ stb_vorbis_flush_pushdata ] ---
@@ -298,7 +309,9 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
+        long __start = FunctionProfiler.start();
         nstb_vorbis_flush_pushdata(f);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ stb_vorbis_decode_filename ] ---
@@ -324,7 +337,8 @@ public class STBVorbis {
             check(sample_rate, 1);
             check(output, 1);
         }
-        return nstb_vorbis_decode_filename(memAddress(filename), memAddress(channels), memAddress(sample_rate), memAddress(output));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nstb_vorbis_decode_filename(memAddress(filename), memAddress(channels), memAddress(sample_rate), memAddress(output)));
     }
 
     /**
@@ -348,7 +362,8 @@ public class STBVorbis {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstb_vorbis_decode_filename(filenameEncoded, memAddress(channels), memAddress(sample_rate), memAddress(output));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 8, __start, nstb_vorbis_decode_filename(filenameEncoded, memAddress(channels), memAddress(sample_rate), memAddress(output)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -376,7 +391,8 @@ public class STBVorbis {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
             PointerBuffer output = stack.pointers(NULL);
-            int __result = nstb_vorbis_decode_filename(filenameEncoded, memAddress(channels), memAddress(sample_rate), memAddress(output));
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 8, __start, nstb_vorbis_decode_filename(filenameEncoded, memAddress(channels), memAddress(sample_rate), memAddress(output)));
             return memShortBufferSafe(output.get(0), __result * channels.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -406,7 +422,8 @@ public class STBVorbis {
             check(sample_rate, 1);
             check(output, 1);
         }
-        return nstb_vorbis_decode_memory(memAddress(mem), mem.remaining(), memAddress(channels), memAddress(sample_rate), memAddress(output));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nstb_vorbis_decode_memory(memAddress(mem), mem.remaining(), memAddress(channels), memAddress(sample_rate), memAddress(output)));
     }
 
     /**
@@ -426,7 +443,8 @@ public class STBVorbis {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer output = stack.pointers(NULL);
-            int __result = nstb_vorbis_decode_memory(memAddress(mem), mem.remaining(), memAddress(channels), memAddress(sample_rate), memAddress(output));
+            long __start = FunctionProfiler.start();
+            int __result = FunctionProfiler.end(PROFILE_ID + 9, __start, nstb_vorbis_decode_memory(memAddress(mem), mem.remaining(), memAddress(channels), memAddress(sample_rate), memAddress(output)));
             return memShortBufferSafe(output.get(0), __result * channels.get(0));
         } finally {
             stack.setPointer(stackPointer);
@@ -457,7 +475,8 @@ public class STBVorbis {
             check(error, 1);
             if (alloc_buffer != null) { STBVorbisAlloc.validate(alloc_buffer.address()); }
         }
-        return nstb_vorbis_open_memory(memAddress(mem), mem.remaining(), memAddress(error), memAddressSafe(alloc_buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nstb_vorbis_open_memory(memAddress(mem), mem.remaining(), memAddress(error), memAddressSafe(alloc_buffer)));
     }
 
     // --- [ stb_vorbis_open_filename ] ---
@@ -481,7 +500,8 @@ public class STBVorbis {
             check(error, 1);
             if (alloc_buffer != null) { STBVorbisAlloc.validate(alloc_buffer.address()); }
         }
-        return nstb_vorbis_open_filename(memAddress(filename), memAddress(error), memAddressSafe(alloc_buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nstb_vorbis_open_filename(memAddress(filename), memAddress(error), memAddressSafe(alloc_buffer)));
     }
 
     /**
@@ -503,7 +523,8 @@ public class STBVorbis {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstb_vorbis_open_filename(filenameEncoded, memAddress(error), memAddressSafe(alloc_buffer));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 11, __start, nstb_vorbis_open_filename(filenameEncoded, memAddress(error), memAddressSafe(alloc_buffer)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -526,7 +547,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_seek_frame(f, sample_number) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nstb_vorbis_seek_frame(f, sample_number)) != 0;
     }
 
     // --- [ stb_vorbis_seek ] ---
@@ -546,7 +568,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_seek(f, sample_number) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nstb_vorbis_seek(f, sample_number)) != 0;
     }
 
     // --- [ stb_vorbis_seek_start ] ---
@@ -564,7 +587,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_seek_start(f) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nstb_vorbis_seek_start(f)) != 0;
     }
 
     // --- [ stb_vorbis_stream_length_in_samples ] ---
@@ -582,7 +606,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_stream_length_in_samples(f);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nstb_vorbis_stream_length_in_samples(f));
     }
 
     // --- [ stb_vorbis_stream_length_in_seconds ] ---
@@ -599,7 +624,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_stream_length_in_seconds(f);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nstb_vorbis_stream_length_in_seconds(f));
     }
 
     // --- [ stb_vorbis_get_frame_float ] ---
@@ -625,7 +651,8 @@ public class STBVorbis {
             checkSafe(channels, 1);
             check(output, 1);
         }
-        return nstb_vorbis_get_frame_float(f, memAddressSafe(channels), memAddress(output));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nstb_vorbis_get_frame_float(f, memAddressSafe(channels), memAddress(output)));
     }
 
     // --- [ stb_vorbis_get_frame_short ] ---
@@ -669,7 +696,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_frame_short(f, buffer.remaining(), memAddress(buffer), num_samples);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nstb_vorbis_get_frame_short(f, buffer.remaining(), memAddress(buffer), num_samples));
     }
 
     // --- [ stb_vorbis_get_frame_short_interleaved ] ---
@@ -697,7 +725,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_frame_short_interleaved(f, num_c, memAddress(buffer), buffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nstb_vorbis_get_frame_short_interleaved(f, num_c, memAddress(buffer), buffer.remaining()));
     }
 
     // --- [ stb_vorbis_get_samples_float ] ---
@@ -723,7 +752,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_samples_float(f, buffer.remaining(), memAddress(buffer), num_samples);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nstb_vorbis_get_samples_float(f, buffer.remaining(), memAddress(buffer), num_samples));
     }
 
     // --- [ stb_vorbis_get_samples_float_interleaved ] ---
@@ -748,7 +778,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_samples_float_interleaved(f, channels, memAddress(buffer), buffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nstb_vorbis_get_samples_float_interleaved(f, channels, memAddress(buffer), buffer.remaining()));
     }
 
     // --- [ stb_vorbis_get_samples_short ] ---
@@ -774,7 +805,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_samples_short(f, buffer.remaining(), memAddress(buffer), num_samples);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nstb_vorbis_get_samples_short(f, buffer.remaining(), memAddress(buffer), num_samples));
     }
 
     // --- [ stb_vorbis_get_samples_short_interleaved ] ---
@@ -799,7 +831,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_samples_short_interleaved(f, channels, memAddress(buffer), buffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nstb_vorbis_get_samples_short_interleaved(f, channels, memAddress(buffer), buffer.remaining()));
     }
 
     /** Array version of: {@link #nstb_vorbis_open_pushdata} */
@@ -813,7 +846,8 @@ public class STBVorbis {
             check(error, 1);
             if (alloc_buffer != null) { STBVorbisAlloc.validate(alloc_buffer.address()); }
         }
-        return nstb_vorbis_open_pushdata(memAddress(datablock), datablock.remaining(), datablock_memory_consumed_in_bytes, error, memAddressSafe(alloc_buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nstb_vorbis_open_pushdata(memAddress(datablock), datablock.remaining(), datablock_memory_consumed_in_bytes, error, memAddressSafe(alloc_buffer)));
     }
 
     /** Array version of: {@link #nstb_vorbis_decode_frame_pushdata} */
@@ -827,7 +861,8 @@ public class STBVorbis {
             check(output, 1);
             check(samples, 1);
         }
-        return nstb_vorbis_decode_frame_pushdata(f, memAddress(datablock), datablock.remaining(), channels, memAddress(output), samples);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nstb_vorbis_decode_frame_pushdata(f, memAddress(datablock), datablock.remaining(), channels, memAddress(output), samples));
     }
 
     /** Array version of: {@link #nstb_vorbis_decode_filename} */
@@ -841,7 +876,8 @@ public class STBVorbis {
             check(sample_rate, 1);
             check(output, 1);
         }
-        return nstb_vorbis_decode_filename(memAddress(filename), channels, sample_rate, memAddress(output));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nstb_vorbis_decode_filename(memAddress(filename), channels, sample_rate, memAddress(output)));
     }
 
     /** Array version of: {@link #stb_vorbis_decode_filename decode_filename} */
@@ -855,7 +891,8 @@ public class STBVorbis {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstb_vorbis_decode_filename(filenameEncoded, channels, sample_rate, memAddress(output));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 8, __start, nstb_vorbis_decode_filename(filenameEncoded, channels, sample_rate, memAddress(output)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -871,7 +908,8 @@ public class STBVorbis {
             check(sample_rate, 1);
             check(output, 1);
         }
-        return nstb_vorbis_decode_memory(memAddress(mem), mem.remaining(), channels, sample_rate, memAddress(output));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nstb_vorbis_decode_memory(memAddress(mem), mem.remaining(), channels, sample_rate, memAddress(output)));
     }
 
     /** Array version of: {@link #nstb_vorbis_open_memory} */
@@ -884,7 +922,8 @@ public class STBVorbis {
             check(error, 1);
             if (alloc_buffer != null) { STBVorbisAlloc.validate(alloc_buffer.address()); }
         }
-        return nstb_vorbis_open_memory(memAddress(mem), mem.remaining(), error, memAddressSafe(alloc_buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nstb_vorbis_open_memory(memAddress(mem), mem.remaining(), error, memAddressSafe(alloc_buffer)));
     }
 
     /** Array version of: {@link #nstb_vorbis_open_filename} */
@@ -898,7 +937,8 @@ public class STBVorbis {
             check(error, 1);
             if (alloc_buffer != null) { STBVorbisAlloc.validate(alloc_buffer.address()); }
         }
-        return nstb_vorbis_open_filename(memAddress(filename), error, memAddressSafe(alloc_buffer));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nstb_vorbis_open_filename(memAddress(filename), error, memAddressSafe(alloc_buffer)));
     }
 
     /** Array version of: {@link #stb_vorbis_open_filename open_filename} */
@@ -912,7 +952,8 @@ public class STBVorbis {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nstb_vorbis_open_filename(filenameEncoded, error, memAddressSafe(alloc_buffer));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 11, __start, nstb_vorbis_open_filename(filenameEncoded, error, memAddressSafe(alloc_buffer)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -928,7 +969,8 @@ public class STBVorbis {
             checkSafe(channels, 1);
             check(output, 1);
         }
-        return nstb_vorbis_get_frame_float(f, channels, memAddress(output));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nstb_vorbis_get_frame_float(f, channels, memAddress(output)));
     }
 
     /** Array version of: {@link #nstb_vorbis_get_frame_short_interleaved} */
@@ -939,7 +981,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_frame_short_interleaved(f, num_c, buffer, buffer.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nstb_vorbis_get_frame_short_interleaved(f, num_c, buffer, buffer.length));
     }
 
     /** Array version of: {@link #nstb_vorbis_get_samples_float_interleaved} */
@@ -950,7 +993,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_samples_float_interleaved(f, channels, buffer, buffer.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nstb_vorbis_get_samples_float_interleaved(f, channels, buffer, buffer.length));
     }
 
     /** Array version of: {@link #nstb_vorbis_get_samples_short_interleaved} */
@@ -961,7 +1005,8 @@ public class STBVorbis {
         if (CHECKS) {
             check(f);
         }
-        return nstb_vorbis_get_samples_short_interleaved(f, channels, buffer, buffer.length);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nstb_vorbis_get_samples_short_interleaved(f, channels, buffer, buffer.length));
     }
 
 }
\ No newline at end of file
@@ -191,6 +191,24 @@ public class STBVorbisAlloc extends Struct implements NativeResource {
         return wrap(STBVorbisAlloc.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBVorbisAlloc} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBVorbisAlloc malloc(MemoryArena arena) {
+        return wrap(STBVorbisAlloc.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBVorbisAlloc} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBVorbisAlloc calloc(MemoryArena arena) {
+        return wrap(STBVorbisAlloc.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBVorbisAlloc.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -229,6 +247,26 @@ public class STBVorbisAlloc extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBVorbisAlloc.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBVorbisAlloc.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBVorbisAlloc.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBVorbisAlloc.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #alloc_buffer() alloc_buffer}. */
@@ -309,6 +347,11 @@ public class STBVorbisAlloc extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code alloc_buffer} field. */
         public STBVorbisAlloc.Buffer alloc_buffer(@NativeType("char *") ByteBuffer value) { STBVorbisAlloc.nalloc_buffer(address(), value); return this; }
 
+        /** Copies the {@code alloc_buffer_length_in_bytes} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisAlloc.Buffer getAlloc_buffer_length_in_bytes(int[] dst) { gather(STBVorbisAlloc.ALLOC_BUFFER_LENGTH_IN_BYTES, dst); return this; }
+        /** Copies the {@code alloc_buffer_length_in_bytes} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisAlloc.Buffer getAlloc_buffer_length_in_bytes(IntBuffer dst) { gather(STBVorbisAlloc.ALLOC_BUFFER_LENGTH_IN_BYTES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
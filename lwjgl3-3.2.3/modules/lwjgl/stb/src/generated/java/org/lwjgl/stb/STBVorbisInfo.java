@@ -202,6 +202,24 @@ public class STBVorbisInfo extends Struct implements NativeResource {
         return wrap(STBVorbisInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code STBVorbisInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBVorbisInfo malloc(MemoryArena arena) {
+        return wrap(STBVorbisInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code STBVorbisInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static STBVorbisInfo calloc(MemoryArena arena) {
+        return wrap(STBVorbisInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link STBVorbisInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -240,6 +258,26 @@ public class STBVorbisInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link STBVorbisInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBVorbisInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link STBVorbisInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static STBVorbisInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sample_rate}. */
@@ -310,6 +348,31 @@ public class STBVorbisInfo extends Struct implements NativeResource {
         /** Returns the value of the {@code max_frame_size} field. */
         public int max_frame_size() { return STBVorbisInfo.nmax_frame_size(address()); }
 
+        /** Copies the {@code sample_rate} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisInfo.Buffer getSample_rate(int[] dst) { gather(STBVorbisInfo.SAMPLE_RATE, dst); return this; }
+        /** Copies the {@code sample_rate} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisInfo.Buffer getSample_rate(IntBuffer dst) { gather(STBVorbisInfo.SAMPLE_RATE, dst); return this; }
+        /** Copies the {@code channels} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisInfo.Buffer getChannels(int[] dst) { gather(STBVorbisInfo.CHANNELS, dst); return this; }
+        /** Copies the {@code channels} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisInfo.Buffer getChannels(IntBuffer dst) { gather(STBVorbisInfo.CHANNELS, dst); return this; }
+        /** Copies the {@code setup_memory_required} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisInfo.Buffer getSetup_memory_required(int[] dst) { gather(STBVorbisInfo.SETUP_MEMORY_REQUIRED, dst); return this; }
+        /** Copies the {@code setup_memory_required} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisInfo.Buffer getSetup_memory_required(IntBuffer dst) { gather(STBVorbisInfo.SETUP_MEMORY_REQUIRED, dst); return this; }
+        /** Copies the {@code setup_temp_memory_required} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisInfo.Buffer getSetup_temp_memory_required(int[] dst) { gather(STBVorbisInfo.SETUP_TEMP_MEMORY_REQUIRED, dst); return this; }
+        /** Copies the {@code setup_temp_memory_required} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisInfo.Buffer getSetup_temp_memory_required(IntBuffer dst) { gather(STBVorbisInfo.SETUP_TEMP_MEMORY_REQUIRED, dst); return this; }
+        /** Copies the {@code temp_memory_required} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisInfo.Buffer getTemp_memory_required(int[] dst) { gather(STBVorbisInfo.TEMP_MEMORY_REQUIRED, dst); return this; }
+        /** Copies the {@code temp_memory_required} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisInfo.Buffer getTemp_memory_required(IntBuffer dst) { gather(STBVorbisInfo.TEMP_MEMORY_REQUIRED, dst); return this; }
+        /** Copies the {@code max_frame_size} field of the structs between the current position and limit to the specified array. */
+        public STBVorbisInfo.Buffer getMax_frame_size(int[] dst) { gather(STBVorbisInfo.MAX_FRAME_SIZE, dst); return this; }
+        /** Copies the {@code max_frame_size} field of the structs between the current position and limit to the specified buffer. */
+        public STBVorbisInfo.Buffer getMax_frame_size(IntBuffer dst) { gather(STBVorbisInfo.MAX_FRAME_SIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,24 @@ public class DeepImage extends Struct implements NativeResource {
         return wrap(DeepImage.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code DeepImage} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DeepImage malloc(MemoryArena arena) {
+        return wrap(DeepImage.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code DeepImage} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static DeepImage calloc(MemoryArena arena) {
+        return wrap(DeepImage.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link DeepImage.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class DeepImage extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link DeepImage.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DeepImage.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link DeepImage.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static DeepImage.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #channel_names() channel_names}. */
@@ -416,6 +454,32 @@ public class DeepImage extends Struct implements NativeResource {
         /** Sets the specified value to the {@code height} field. */
         public DeepImage.Buffer height(int value) { DeepImage.nheight(address(), value); return this; }
 
+        /** Copies the {@code num_channels} field of the structs between the current position and limit to the specified array. */
+        public DeepImage.Buffer getNum_channels(int[] dst) { gather(DeepImage.NUM_CHANNELS, dst); return this; }
+        /** Copies the {@code num_channels} field of the structs between the current position and limit to the specified buffer. */
+        public DeepImage.Buffer getNum_channels(IntBuffer dst) { gather(DeepImage.NUM_CHANNELS, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public DeepImage.Buffer getWidth(int[] dst) { gather(DeepImage.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public DeepImage.Buffer getWidth(IntBuffer dst) { gather(DeepImage.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public DeepImage.Buffer getHeight(int[] dst) { gather(DeepImage.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public DeepImage.Buffer getHeight(IntBuffer dst) { gather(DeepImage.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code num_channels} field of the structs between the current position and limit. */
+        public DeepImage.Buffer putNum_channels(int[] src) { scatter(DeepImage.NUM_CHANNELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_channels} field of the structs between the current position and limit. */
+        public DeepImage.Buffer putNum_channels(IntBuffer src) { scatter(DeepImage.NUM_CHANNELS, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public DeepImage.Buffer putWidth(int[] src) { scatter(DeepImage.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public DeepImage.Buffer putWidth(IntBuffer src) { scatter(DeepImage.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public DeepImage.Buffer putHeight(int[] src) { scatter(DeepImage.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public DeepImage.Buffer putHeight(IntBuffer src) { scatter(DeepImage.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class EXRAttribute extends Struct implements NativeResource {
         return wrap(EXRAttribute.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EXRAttribute} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRAttribute malloc(MemoryArena arena) {
+        return wrap(EXRAttribute.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EXRAttribute} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRAttribute calloc(MemoryArena arena) {
+        return wrap(EXRAttribute.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EXRAttribute.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class EXRAttribute extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EXRAttribute.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRAttribute.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EXRAttribute.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRAttribute.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #name}. */
@@ -389,6 +427,11 @@ public class EXRAttribute extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code value} field. */
         public EXRAttribute.Buffer value(@Nullable @NativeType("unsigned char *") ByteBuffer value) { EXRAttribute.nvalue(address(), value); return this; }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public EXRAttribute.Buffer getSize(int[] dst) { gather(EXRAttribute.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public EXRAttribute.Buffer getSize(IntBuffer dst) { gather(EXRAttribute.SIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
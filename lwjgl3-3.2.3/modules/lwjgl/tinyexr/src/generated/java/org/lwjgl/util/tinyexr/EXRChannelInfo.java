@@ -237,6 +237,24 @@ public class EXRChannelInfo extends Struct implements NativeResource {
         return wrap(EXRChannelInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EXRChannelInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRChannelInfo malloc(MemoryArena arena) {
+        return wrap(EXRChannelInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EXRChannelInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRChannelInfo calloc(MemoryArena arena) {
+        return wrap(EXRChannelInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EXRChannelInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class EXRChannelInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EXRChannelInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRChannelInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EXRChannelInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRChannelInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #name}. */
@@ -372,6 +410,40 @@ public class EXRChannelInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code p_linear} field. */
         public EXRChannelInfo.Buffer p_linear(@NativeType("unsigned char") byte value) { EXRChannelInfo.np_linear(address(), value); return this; }
 
+        /** Copies the {@code pixel_type} field of the structs between the current position and limit to the specified array. */
+        public EXRChannelInfo.Buffer getPixel_type(int[] dst) { gather(EXRChannelInfo.PIXEL_TYPE, dst); return this; }
+        /** Copies the {@code pixel_type} field of the structs between the current position and limit to the specified buffer. */
+        public EXRChannelInfo.Buffer getPixel_type(IntBuffer dst) { gather(EXRChannelInfo.PIXEL_TYPE, dst); return this; }
+        /** Copies the {@code x_sampling} field of the structs between the current position and limit to the specified array. */
+        public EXRChannelInfo.Buffer getX_sampling(int[] dst) { gather(EXRChannelInfo.X_SAMPLING, dst); return this; }
+        /** Copies the {@code x_sampling} field of the structs between the current position and limit to the specified buffer. */
+        public EXRChannelInfo.Buffer getX_sampling(IntBuffer dst) { gather(EXRChannelInfo.X_SAMPLING, dst); return this; }
+        /** Copies the {@code y_sampling} field of the structs between the current position and limit to the specified array. */
+        public EXRChannelInfo.Buffer getY_sampling(int[] dst) { gather(EXRChannelInfo.Y_SAMPLING, dst); return this; }
+        /** Copies the {@code y_sampling} field of the structs between the current position and limit to the specified buffer. */
+        public EXRChannelInfo.Buffer getY_sampling(IntBuffer dst) { gather(EXRChannelInfo.Y_SAMPLING, dst); return this; }
+        /** Copies the {@code p_linear} field of the structs between the current position and limit to the specified array. */
+        public EXRChannelInfo.Buffer getP_linear(byte[] dst) { gather(EXRChannelInfo.P_LINEAR, dst); return this; }
+        /** Copies the {@code p_linear} field of the structs between the current position and limit to the specified buffer. */
+        public EXRChannelInfo.Buffer getP_linear(ByteBuffer dst) { gather(EXRChannelInfo.P_LINEAR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code pixel_type} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putPixel_type(int[] src) { scatter(EXRChannelInfo.PIXEL_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pixel_type} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putPixel_type(IntBuffer src) { scatter(EXRChannelInfo.PIXEL_TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code x_sampling} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putX_sampling(int[] src) { scatter(EXRChannelInfo.X_SAMPLING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x_sampling} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putX_sampling(IntBuffer src) { scatter(EXRChannelInfo.X_SAMPLING, src); return this; }
+        /** Copies the values in the specified array to the {@code y_sampling} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putY_sampling(int[] src) { scatter(EXRChannelInfo.Y_SAMPLING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y_sampling} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putY_sampling(IntBuffer src) { scatter(EXRChannelInfo.Y_SAMPLING, src); return this; }
+        /** Copies the values in the specified array to the {@code p_linear} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putP_linear(byte[] src) { scatter(EXRChannelInfo.P_LINEAR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code p_linear} field of the structs between the current position and limit. */
+        public EXRChannelInfo.Buffer putP_linear(ByteBuffer src) { scatter(EXRChannelInfo.P_LINEAR, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -447,6 +447,24 @@ public class EXRHeader extends Struct implements NativeResource {
         return wrap(EXRHeader.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EXRHeader} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRHeader malloc(MemoryArena arena) {
+        return wrap(EXRHeader.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EXRHeader} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRHeader calloc(MemoryArena arena) {
+        return wrap(EXRHeader.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EXRHeader.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -485,6 +503,26 @@ public class EXRHeader extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EXRHeader.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRHeader.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EXRHeader.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRHeader.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #pixel_aspect_ratio}. */
@@ -799,6 +837,104 @@ public class EXRHeader extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code requested_pixel_types} field. */
         public EXRHeader.Buffer requested_pixel_types(@NativeType("int *") IntBuffer value) { EXRHeader.nrequested_pixel_types(address(), value); return this; }
 
+        /** Copies the {@code pixel_aspect_ratio} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getPixel_aspect_ratio(float[] dst) { gather(EXRHeader.PIXEL_ASPECT_RATIO, dst); return this; }
+        /** Copies the {@code pixel_aspect_ratio} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getPixel_aspect_ratio(FloatBuffer dst) { gather(EXRHeader.PIXEL_ASPECT_RATIO, dst); return this; }
+        /** Copies the {@code line_order} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getLine_order(int[] dst) { gather(EXRHeader.LINE_ORDER, dst); return this; }
+        /** Copies the {@code line_order} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getLine_order(IntBuffer dst) { gather(EXRHeader.LINE_ORDER, dst); return this; }
+        /** Copies the {@code screen_window_width} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getScreen_window_width(float[] dst) { gather(EXRHeader.SCREEN_WINDOW_WIDTH, dst); return this; }
+        /** Copies the {@code screen_window_width} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getScreen_window_width(FloatBuffer dst) { gather(EXRHeader.SCREEN_WINDOW_WIDTH, dst); return this; }
+        /** Copies the {@code chunk_count} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getChunk_count(int[] dst) { gather(EXRHeader.CHUNK_COUNT, dst); return this; }
+        /** Copies the {@code chunk_count} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getChunk_count(IntBuffer dst) { gather(EXRHeader.CHUNK_COUNT, dst); return this; }
+        /** Copies the {@code tile_size_x} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getTile_size_x(int[] dst) { gather(EXRHeader.TILE_SIZE_X, dst); return this; }
+        /** Copies the {@code tile_size_x} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getTile_size_x(IntBuffer dst) { gather(EXRHeader.TILE_SIZE_X, dst); return this; }
+        /** Copies the {@code tile_size_y} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getTile_size_y(int[] dst) { gather(EXRHeader.TILE_SIZE_Y, dst); return this; }
+        /** Copies the {@code tile_size_y} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getTile_size_y(IntBuffer dst) { gather(EXRHeader.TILE_SIZE_Y, dst); return this; }
+        /** Copies the {@code tile_level_mode} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getTile_level_mode(int[] dst) { gather(EXRHeader.TILE_LEVEL_MODE, dst); return this; }
+        /** Copies the {@code tile_level_mode} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getTile_level_mode(IntBuffer dst) { gather(EXRHeader.TILE_LEVEL_MODE, dst); return this; }
+        /** Copies the {@code tile_rounding_mode} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getTile_rounding_mode(int[] dst) { gather(EXRHeader.TILE_ROUNDING_MODE, dst); return this; }
+        /** Copies the {@code tile_rounding_mode} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getTile_rounding_mode(IntBuffer dst) { gather(EXRHeader.TILE_ROUNDING_MODE, dst); return this; }
+        /** Copies the {@code header_len} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getHeader_len(int[] dst) { gather(EXRHeader.HEADER_LEN, dst); return this; }
+        /** Copies the {@code header_len} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getHeader_len(IntBuffer dst) { gather(EXRHeader.HEADER_LEN, dst); return this; }
+        /** Copies the {@code num_custom_attributes} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getNum_custom_attributes(int[] dst) { gather(EXRHeader.NUM_CUSTOM_ATTRIBUTES, dst); return this; }
+        /** Copies the {@code num_custom_attributes} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getNum_custom_attributes(IntBuffer dst) { gather(EXRHeader.NUM_CUSTOM_ATTRIBUTES, dst); return this; }
+        /** Copies the {@code num_channels} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getNum_channels(int[] dst) { gather(EXRHeader.NUM_CHANNELS, dst); return this; }
+        /** Copies the {@code num_channels} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getNum_channels(IntBuffer dst) { gather(EXRHeader.NUM_CHANNELS, dst); return this; }
+        /** Copies the {@code compression_type} field of the structs between the current position and limit to the specified array. */
+        public EXRHeader.Buffer getCompression_type(int[] dst) { gather(EXRHeader.COMPRESSION_TYPE, dst); return this; }
+        /** Copies the {@code compression_type} field of the structs between the current position and limit to the specified buffer. */
+        public EXRHeader.Buffer getCompression_type(IntBuffer dst) { gather(EXRHeader.COMPRESSION_TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code pixel_aspect_ratio} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putPixel_aspect_ratio(float[] src) { scatter(EXRHeader.PIXEL_ASPECT_RATIO, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pixel_aspect_ratio} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putPixel_aspect_ratio(FloatBuffer src) { scatter(EXRHeader.PIXEL_ASPECT_RATIO, src); return this; }
+        /** Copies the values in the specified array to the {@code line_order} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putLine_order(int[] src) { scatter(EXRHeader.LINE_ORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code line_order} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putLine_order(IntBuffer src) { scatter(EXRHeader.LINE_ORDER, src); return this; }
+        /** Copies the values in the specified array to the {@code screen_window_width} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putScreen_window_width(float[] src) { scatter(EXRHeader.SCREEN_WINDOW_WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code screen_window_width} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putScreen_window_width(FloatBuffer src) { scatter(EXRHeader.SCREEN_WINDOW_WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code chunk_count} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putChunk_count(int[] src) { scatter(EXRHeader.CHUNK_COUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code chunk_count} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putChunk_count(IntBuffer src) { scatter(EXRHeader.CHUNK_COUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code tile_size_x} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_size_x(int[] src) { scatter(EXRHeader.TILE_SIZE_X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tile_size_x} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_size_x(IntBuffer src) { scatter(EXRHeader.TILE_SIZE_X, src); return this; }
+        /** Copies the values in the specified array to the {@code tile_size_y} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_size_y(int[] src) { scatter(EXRHeader.TILE_SIZE_Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tile_size_y} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_size_y(IntBuffer src) { scatter(EXRHeader.TILE_SIZE_Y, src); return this; }
+        /** Copies the values in the specified array to the {@code tile_level_mode} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_level_mode(int[] src) { scatter(EXRHeader.TILE_LEVEL_MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tile_level_mode} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_level_mode(IntBuffer src) { scatter(EXRHeader.TILE_LEVEL_MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code tile_rounding_mode} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_rounding_mode(int[] src) { scatter(EXRHeader.TILE_ROUNDING_MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tile_rounding_mode} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putTile_rounding_mode(IntBuffer src) { scatter(EXRHeader.TILE_ROUNDING_MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code header_len} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putHeader_len(int[] src) { scatter(EXRHeader.HEADER_LEN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code header_len} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putHeader_len(IntBuffer src) { scatter(EXRHeader.HEADER_LEN, src); return this; }
+        /** Copies the values in the specified array to the {@code num_custom_attributes} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putNum_custom_attributes(int[] src) { scatter(EXRHeader.NUM_CUSTOM_ATTRIBUTES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_custom_attributes} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putNum_custom_attributes(IntBuffer src) { scatter(EXRHeader.NUM_CUSTOM_ATTRIBUTES, src); return this; }
+        /** Copies the values in the specified array to the {@code num_channels} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putNum_channels(int[] src) { scatter(EXRHeader.NUM_CHANNELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_channels} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putNum_channels(IntBuffer src) { scatter(EXRHeader.NUM_CHANNELS, src); return this; }
+        /** Copies the values in the specified array to the {@code compression_type} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putCompression_type(int[] src) { scatter(EXRHeader.COMPRESSION_TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compression_type} field of the structs between the current position and limit. */
+        public EXRHeader.Buffer putCompression_type(IntBuffer src) { scatter(EXRHeader.COMPRESSION_TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
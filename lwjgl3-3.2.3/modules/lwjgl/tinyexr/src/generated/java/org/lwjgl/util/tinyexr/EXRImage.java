@@ -247,6 +247,24 @@ public class EXRImage extends Struct implements NativeResource {
         return wrap(EXRImage.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EXRImage} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRImage malloc(MemoryArena arena) {
+        return wrap(EXRImage.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EXRImage} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRImage calloc(MemoryArena arena) {
+        return wrap(EXRImage.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EXRImage.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class EXRImage extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EXRImage.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRImage.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EXRImage.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRImage.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #tiles}. */
@@ -405,6 +443,36 @@ public class EXRImage extends Struct implements NativeResource {
         /** Sets the specified value to the {@code num_channels} field. */
         public EXRImage.Buffer num_channels(int value) { EXRImage.nnum_channels(address(), value); return this; }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public EXRImage.Buffer getWidth(int[] dst) { gather(EXRImage.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public EXRImage.Buffer getWidth(IntBuffer dst) { gather(EXRImage.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public EXRImage.Buffer getHeight(int[] dst) { gather(EXRImage.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public EXRImage.Buffer getHeight(IntBuffer dst) { gather(EXRImage.HEIGHT, dst); return this; }
+        /** Copies the {@code num_channels} field of the structs between the current position and limit to the specified array. */
+        public EXRImage.Buffer getNum_channels(int[] dst) { gather(EXRImage.NUM_CHANNELS, dst); return this; }
+        /** Copies the {@code num_channels} field of the structs between the current position and limit to the specified buffer. */
+        public EXRImage.Buffer getNum_channels(IntBuffer dst) { gather(EXRImage.NUM_CHANNELS, dst); return this; }
+        /** Copies the {@code num_tiles} field of the structs between the current position and limit to the specified array. */
+        public EXRImage.Buffer getNum_tiles(int[] dst) { gather(EXRImage.NUM_TILES, dst); return this; }
+        /** Copies the {@code num_tiles} field of the structs between the current position and limit to the specified buffer. */
+        public EXRImage.Buffer getNum_tiles(IntBuffer dst) { gather(EXRImage.NUM_TILES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public EXRImage.Buffer putWidth(int[] src) { scatter(EXRImage.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public EXRImage.Buffer putWidth(IntBuffer src) { scatter(EXRImage.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public EXRImage.Buffer putHeight(int[] src) { scatter(EXRImage.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public EXRImage.Buffer putHeight(IntBuffer src) { scatter(EXRImage.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code num_channels} field of the structs between the current position and limit. */
+        public EXRImage.Buffer putNum_channels(int[] src) { scatter(EXRImage.NUM_CHANNELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code num_channels} field of the structs between the current position and limit. */
+        public EXRImage.Buffer putNum_channels(IntBuffer src) { scatter(EXRImage.NUM_CHANNELS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -263,6 +263,24 @@ public class EXRTile extends Struct implements NativeResource {
         return wrap(EXRTile.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EXRTile} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRTile malloc(MemoryArena arena) {
+        return wrap(EXRTile.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EXRTile} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRTile calloc(MemoryArena arena) {
+        return wrap(EXRTile.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EXRTile.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class EXRTile extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EXRTile.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRTile.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EXRTile.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRTile.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #offset_x}. */
@@ -427,6 +465,56 @@ public class EXRTile extends Struct implements NativeResource {
         /** Sets the address of the specified {@link PointerBuffer} to the {@code images} field. */
         public EXRTile.Buffer images(@NativeType("unsigned char **") PointerBuffer value) { EXRTile.nimages(address(), value); return this; }
 
+        /** Copies the {@code offset_x} field of the structs between the current position and limit to the specified array. */
+        public EXRTile.Buffer getOffset_x(int[] dst) { gather(EXRTile.OFFSET_X, dst); return this; }
+        /** Copies the {@code offset_x} field of the structs between the current position and limit to the specified buffer. */
+        public EXRTile.Buffer getOffset_x(IntBuffer dst) { gather(EXRTile.OFFSET_X, dst); return this; }
+        /** Copies the {@code offset_y} field of the structs between the current position and limit to the specified array. */
+        public EXRTile.Buffer getOffset_y(int[] dst) { gather(EXRTile.OFFSET_Y, dst); return this; }
+        /** Copies the {@code offset_y} field of the structs between the current position and limit to the specified buffer. */
+        public EXRTile.Buffer getOffset_y(IntBuffer dst) { gather(EXRTile.OFFSET_Y, dst); return this; }
+        /** Copies the {@code level_x} field of the structs between the current position and limit to the specified array. */
+        public EXRTile.Buffer getLevel_x(int[] dst) { gather(EXRTile.LEVEL_X, dst); return this; }
+        /** Copies the {@code level_x} field of the structs between the current position and limit to the specified buffer. */
+        public EXRTile.Buffer getLevel_x(IntBuffer dst) { gather(EXRTile.LEVEL_X, dst); return this; }
+        /** Copies the {@code level_y} field of the structs between the current position and limit to the specified array. */
+        public EXRTile.Buffer getLevel_y(int[] dst) { gather(EXRTile.LEVEL_Y, dst); return this; }
+        /** Copies the {@code level_y} field of the structs between the current position and limit to the specified buffer. */
+        public EXRTile.Buffer getLevel_y(IntBuffer dst) { gather(EXRTile.LEVEL_Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public EXRTile.Buffer getWidth(int[] dst) { gather(EXRTile.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public EXRTile.Buffer getWidth(IntBuffer dst) { gather(EXRTile.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public EXRTile.Buffer getHeight(int[] dst) { gather(EXRTile.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public EXRTile.Buffer getHeight(IntBuffer dst) { gather(EXRTile.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code offset_x} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putOffset_x(int[] src) { scatter(EXRTile.OFFSET_X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset_x} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putOffset_x(IntBuffer src) { scatter(EXRTile.OFFSET_X, src); return this; }
+        /** Copies the values in the specified array to the {@code offset_y} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putOffset_y(int[] src) { scatter(EXRTile.OFFSET_Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset_y} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putOffset_y(IntBuffer src) { scatter(EXRTile.OFFSET_Y, src); return this; }
+        /** Copies the values in the specified array to the {@code level_x} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putLevel_x(int[] src) { scatter(EXRTile.LEVEL_X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code level_x} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putLevel_x(IntBuffer src) { scatter(EXRTile.LEVEL_X, src); return this; }
+        /** Copies the values in the specified array to the {@code level_y} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putLevel_y(int[] src) { scatter(EXRTile.LEVEL_Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code level_y} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putLevel_y(IntBuffer src) { scatter(EXRTile.LEVEL_Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putWidth(int[] src) { scatter(EXRTile.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putWidth(IntBuffer src) { scatter(EXRTile.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putHeight(int[] src) { scatter(EXRTile.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public EXRTile.Buffer putHeight(IntBuffer src) { scatter(EXRTile.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -243,6 +243,24 @@ public class EXRVersion extends Struct implements NativeResource {
         return wrap(EXRVersion.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code EXRVersion} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRVersion malloc(MemoryArena arena) {
+        return wrap(EXRVersion.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code EXRVersion} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static EXRVersion calloc(MemoryArena arena) {
+        return wrap(EXRVersion.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link EXRVersion.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class EXRVersion extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link EXRVersion.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRVersion.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link EXRVersion.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static EXRVersion.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #version}. */
@@ -369,6 +407,16 @@ public class EXRVersion extends Struct implements NativeResource {
         /** Sets the specified value to the {@code multipart} field. */
         public EXRVersion.Buffer multipart(@NativeType("int") boolean value) { EXRVersion.nmultipart(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code version} field of the structs between the current position and limit to the specified array. */
+        public EXRVersion.Buffer getVersion(int[] dst) { gather(EXRVersion.VERSION, dst); return this; }
+        /** Copies the {@code version} field of the structs between the current position and limit to the specified buffer. */
+        public EXRVersion.Buffer getVersion(IntBuffer dst) { gather(EXRVersion.VERSION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code version} field of the structs between the current position and limit. */
+        public EXRVersion.Buffer putVersion(int[] src) { scatter(EXRVersion.VERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code version} field of the structs between the current position and limit. */
+        public EXRVersion.Buffer putVersion(IntBuffer src) { scatter(EXRVersion.VERSION, src); return this; }
+
     }
 
 }
\ No newline at end of file
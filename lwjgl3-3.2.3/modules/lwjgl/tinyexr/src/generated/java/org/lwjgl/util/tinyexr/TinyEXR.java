@@ -74,6 +74,8 @@ public class TinyEXR {
         TINYEXR_TILE_ROUND_DOWN = 0,
         TINYEXR_TILE_ROUND_UP   = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(TinyEXR.class, "InitEXRHeader,InitEXRImage,FreeEXRHeader,FreeEXRImage,FreeEXRErrorMessage,ParseEXRVersionFromFile,ParseEXRVersionFromMemory,ParseEXRHeaderFromFile,ParseEXRHeaderFromMemory,ParseEXRMultipartHeaderFromFile,ParseEXRMultipartHeaderFromMemory,LoadEXRImageFromFile,LoadEXRImageFromMemory,LoadEXRMultipartImageFromFile,LoadEXRMultipartImageFromMemory,SaveEXRImageToFile,SaveEXRImageToMemory,LoadDeepEXR");
+
     static { Library.loadSystem(System::load, System::loadLibrary, TinyEXR.class, "org.lwjgl.tinyexr", Platform.mapLibraryNameBundled("lwjgl_tinyexr")); }
 
     protected TinyEXR() {
@@ -87,7 +89,9 @@ public class TinyEXR {
 
     /** Initialize {@link EXRHeader} struct. */
     public static void InitEXRHeader(@NativeType("EXRHeader *") EXRHeader exr_header) {
+        long __start = FunctionProfiler.start();
         nInitEXRHeader(exr_header.address());
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ InitEXRImage ] ---
@@ -97,7 +101,9 @@ public class TinyEXR {
 
     /** Initialize {@link EXRImage} struct. */
     public static void InitEXRImage(@NativeType("EXRImage *") EXRImage exr_image) {
+        long __start = FunctionProfiler.start();
         nInitEXRImage(exr_image.address());
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ FreeEXRHeader ] ---
@@ -107,7 +113,8 @@ public class TinyEXR {
 
     /** Free's internal data of {@link EXRHeader} struct */
     public static int FreeEXRHeader(@NativeType("EXRHeader *") EXRHeader exr_header) {
-        return nFreeEXRHeader(exr_header.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nFreeEXRHeader(exr_header.address()));
     }
 
     // --- [ FreeEXRImage ] ---
@@ -117,7 +124,8 @@ public class TinyEXR {
 
     /** Free's internal data of {@link EXRImage} struct */
     public static int FreeEXRImage(@NativeType("EXRImage *") EXRImage exr_image) {
-        return nFreeEXRImage(exr_image.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nFreeEXRImage(exr_image.address()));
     }
 
     // --- [ FreeEXRErrorMessage ] ---
@@ -127,7 +135,9 @@ public class TinyEXR {
 
     /** Free's error message */
     public static void FreeEXRErrorMessage(@NativeType("char const *") ByteBuffer msg) {
+        long __start = FunctionProfiler.start();
         nFreeEXRErrorMessage(memAddress(msg));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ ParseEXRVersionFromFile ] ---
@@ -140,7 +150,8 @@ public class TinyEXR {
         if (CHECKS) {
             checkNT1(filename);
         }
-        return nParseEXRVersionFromFile(version.address(), memAddress(filename));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nParseEXRVersionFromFile(version.address(), memAddress(filename)));
     }
 
     /** Parse EXR version header of a file. */
@@ -149,7 +160,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nParseEXRVersionFromFile(version.address(), filenameEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 5, __start, nParseEXRVersionFromFile(version.address(), filenameEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -162,7 +174,8 @@ public class TinyEXR {
 
     /** Parse EXR version header from memory-mapped EXR data. */
     public static int ParseEXRVersionFromMemory(@NativeType("EXRVersion *") EXRVersion version, @NativeType("unsigned char const *") ByteBuffer memory) {
-        return nParseEXRVersionFromMemory(version.address(), memAddress(memory), memory.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nParseEXRVersionFromMemory(version.address(), memAddress(memory), memory.remaining()));
     }
 
     // --- [ ParseEXRHeaderFromFile ] ---
@@ -180,7 +193,8 @@ public class TinyEXR {
             checkNT1(filename);
             check(err, 1);
         }
-        return nParseEXRHeaderFromFile(header.address(), version.address(), memAddress(filename), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nParseEXRHeaderFromFile(header.address(), version.address(), memAddress(filename), memAddress(err)));
     }
 
     /**
@@ -196,7 +210,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nParseEXRHeaderFromFile(header.address(), version.address(), filenameEncoded, memAddress(err));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 7, __start, nParseEXRHeaderFromFile(header.address(), version.address(), filenameEncoded, memAddress(err)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -216,7 +231,8 @@ public class TinyEXR {
         if (CHECKS) {
             check(err, 1);
         }
-        return nParseEXRHeaderFromMemory(header.address(), version.address(), memAddress(memory), memory.remaining(), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nParseEXRHeaderFromMemory(header.address(), version.address(), memAddress(memory), memory.remaining(), memAddress(err)));
     }
 
     // --- [ ParseEXRMultipartHeaderFromFile ] ---
@@ -236,7 +252,8 @@ public class TinyEXR {
             checkNT1(filename);
             check(err, 1);
         }
-        return nParseEXRMultipartHeaderFromFile(memAddress(headers), memAddress(num_headers), version.address(), memAddress(filename), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nParseEXRMultipartHeaderFromFile(memAddress(headers), memAddress(num_headers), version.address(), memAddress(filename), memAddress(err)));
     }
 
     /**
@@ -254,7 +271,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nParseEXRMultipartHeaderFromFile(memAddress(headers), memAddress(num_headers), version.address(), filenameEncoded, memAddress(err));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 9, __start, nParseEXRMultipartHeaderFromFile(memAddress(headers), memAddress(num_headers), version.address(), filenameEncoded, memAddress(err)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -276,7 +294,8 @@ public class TinyEXR {
             check(num_headers, 1);
             check(err, 1);
         }
-        return nParseEXRMultipartHeaderFromMemory(memAddress(headers), memAddress(num_headers), version.address(), memAddress(memory), memory.remaining(), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nParseEXRMultipartHeaderFromMemory(memAddress(headers), memAddress(num_headers), version.address(), memAddress(memory), memory.remaining(), memAddress(err)));
     }
 
     // --- [ LoadEXRImageFromFile ] ---
@@ -299,7 +318,8 @@ public class TinyEXR {
             check(err, 1);
             EXRHeader.validate(header.address());
         }
-        return nLoadEXRImageFromFile(image.address(), header.address(), memAddress(filename), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nLoadEXRImageFromFile(image.address(), header.address(), memAddress(filename), memAddress(err)));
     }
 
     /**
@@ -320,7 +340,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nLoadEXRImageFromFile(image.address(), header.address(), filenameEncoded, memAddress(err));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 11, __start, nLoadEXRImageFromFile(image.address(), header.address(), filenameEncoded, memAddress(err)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -345,7 +366,8 @@ public class TinyEXR {
             check(err, 1);
             EXRHeader.validate(header.address());
         }
-        return nLoadEXRImageFromMemory(image.address(), header.address(), memAddress(memory), memory.remaining(), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nLoadEXRImageFromMemory(image.address(), header.address(), memAddress(memory), memory.remaining(), memAddress(err)));
     }
 
     // --- [ LoadEXRMultipartImageFromFile ] ---
@@ -368,7 +390,8 @@ public class TinyEXR {
             checkNT1(filename);
             check(err, 1);
         }
-        return nLoadEXRMultipartImageFromFile(images.address(), memAddress(headers), images.remaining(), memAddress(filename), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nLoadEXRMultipartImageFromFile(images.address(), memAddress(headers), images.remaining(), memAddress(filename), memAddress(err)));
     }
 
     /**
@@ -389,7 +412,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nLoadEXRMultipartImageFromFile(images.address(), memAddress(headers), images.remaining(), filenameEncoded, memAddress(err));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 13, __start, nLoadEXRMultipartImageFromFile(images.address(), memAddress(headers), images.remaining(), filenameEncoded, memAddress(err)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -414,7 +438,8 @@ public class TinyEXR {
             check(headers, images.remaining());
             check(err, 1);
         }
-        return nLoadEXRMultipartImageFromMemory(images.address(), memAddress(headers), images.remaining(), memAddress(memory), memory.remaining(), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nLoadEXRMultipartImageFromMemory(images.address(), memAddress(headers), images.remaining(), memAddress(memory), memory.remaining(), memAddress(err)));
     }
 
     // --- [ SaveEXRImageToFile ] ---
@@ -436,7 +461,8 @@ public class TinyEXR {
             EXRImage.validate(image.address());
             EXRHeader.validate(exr_header.address());
         }
-        return nSaveEXRImageToFile(image.address(), exr_header.address(), memAddress(filename), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nSaveEXRImageToFile(image.address(), exr_header.address(), memAddress(filename), memAddress(err)));
     }
 
     /**
@@ -456,7 +482,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nSaveEXRImageToFile(image.address(), exr_header.address(), filenameEncoded, memAddress(err));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 15, __start, nSaveEXRImageToFile(image.address(), exr_header.address(), filenameEncoded, memAddress(err)));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -484,7 +511,8 @@ public class TinyEXR {
             EXRImage.validate(image.address());
             EXRHeader.validate(exr_header.address());
         }
-        return nSaveEXRImageToMemory(image.address(), exr_header.address(), memAddress(memory), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nSaveEXRImageToMemory(image.address(), exr_header.address(), memAddress(memory), memAddress(err)));
     }
 
     // --- [ LoadDeepEXR ] ---
@@ -506,7 +534,8 @@ public class TinyEXR {
             checkNT1(filename);
             check(err, 1);
         }
-        return nLoadDeepEXR(out_image.address(), memAddress(filename), memAddress(err));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nLoadDeepEXR(out_image.address(), memAddress(filename), memAddress(err)));
     }
 
     /**
@@ -526,7 +555,8 @@ public class TinyEXR {
         try {
             stack.nASCII(filename, true);
             long filenameEncoded = stack.getPointerAddress();
-            return nLoadDeepEXR(out_image.address(), filenameEncoded, memAddress(err));
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 17, __start, nLoadDeepEXR(out_image.address(), filenameEncoded, memAddress(err)));
         } finally {
             stack.setPointer(stackPointer);
         }
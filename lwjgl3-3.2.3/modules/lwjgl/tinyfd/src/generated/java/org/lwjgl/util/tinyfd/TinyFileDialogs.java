@@ -33,6 +33,8 @@ import static org.lwjgl.system.MemoryUtil.*;
  */
 public class TinyFileDialogs {
 
+    private static final int PROFILE_ID = FunctionProfiler.register(TinyFileDialogs.class, "tinyfd_notifyPopup,tinyfd_messageBox,tinyfd_inputBox,tinyfd_saveFileDialog,tinyfd_openFileDialog,tinyfd_selectFolderDialog,tinyfd_colorChooser");
+
     static {
         Library.loadSystem(System::load, System::loadLibrary, TinyFileDialogs.class, "org.lwjgl.tinyfd", Platform.mapLibraryNameBundled("lwjgl_tinyfd"));
         tinyfd_winUtf8().put(0, 1);
@@ -167,7 +169,8 @@ public class TinyFileDialogs {
             checkNT1Safe(aMessage);
             checkNT1(aIconType);
         }
-        return ntinyfd_notifyPopup(memAddressSafe(aTitle), memAddressSafe(aMessage), memAddress(aIconType));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, ntinyfd_notifyPopup(memAddressSafe(aTitle), memAddressSafe(aMessage), memAddress(aIconType)));
     }
 
     /**
@@ -186,7 +189,8 @@ public class TinyFileDialogs {
             long aMessageEncoded = aMessage == null ? NULL : stack.getPointerAddress();
             stack.nASCII(aIconType, true);
             long aIconTypeEncoded = stack.getPointerAddress();
-            return ntinyfd_notifyPopup(aTitleEncoded, aMessageEncoded, aIconTypeEncoded);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID, __start, ntinyfd_notifyPopup(aTitleEncoded, aMessageEncoded, aIconTypeEncoded));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -216,7 +220,8 @@ public class TinyFileDialogs {
             checkNT1(aDialogType);
             checkNT1(aIconType);
         }
-        return ntinyfd_messageBox(memAddressSafe(aTitle), memAddressSafe(aMessage), memAddress(aDialogType), memAddress(aIconType), aDefaultButton ? 1 : 0) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, ntinyfd_messageBox(memAddressSafe(aTitle), memAddressSafe(aMessage), memAddress(aDialogType), memAddress(aIconType), aDefaultButton ? 1 : 0)) != 0;
     }
 
     /**
@@ -242,7 +247,8 @@ public class TinyFileDialogs {
             long aDialogTypeEncoded = stack.getPointerAddress();
             stack.nASCII(aIconType, true);
             long aIconTypeEncoded = stack.getPointerAddress();
-            return ntinyfd_messageBox(aTitleEncoded, aMessageEncoded, aDialogTypeEncoded, aIconTypeEncoded, aDefaultButton ? 1 : 0) != 0;
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 1, __start, ntinyfd_messageBox(aTitleEncoded, aMessageEncoded, aDialogTypeEncoded, aIconTypeEncoded, aDefaultButton ? 1 : 0)) != 0;
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -270,7 +276,8 @@ public class TinyFileDialogs {
             checkNT1Safe(aMessage);
             checkNT1Safe(aDefaultInput);
         }
-        long __result = ntinyfd_inputBox(memAddressSafe(aTitle), memAddressSafe(aMessage), memAddressSafe(aDefaultInput));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, ntinyfd_inputBox(memAddressSafe(aTitle), memAddressSafe(aMessage), memAddressSafe(aDefaultInput)));
         return memUTF8Safe(__result);
     }
 
@@ -294,7 +301,8 @@ public class TinyFileDialogs {
             long aMessageEncoded = aMessage == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(aDefaultInput, true);
             long aDefaultInputEncoded = aDefaultInput == null ? NULL : stack.getPointerAddress();
-            long __result = ntinyfd_inputBox(aTitleEncoded, aMessageEncoded, aDefaultInputEncoded);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 2, __start, ntinyfd_inputBox(aTitleEncoded, aMessageEncoded, aDefaultInputEncoded));
             return memUTF8Safe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -328,7 +336,8 @@ public class TinyFileDialogs {
             checkNT1Safe(aDefaultPathAndFile);
             checkNT1Safe(aSingleFilterDescription);
         }
-        long __result = ntinyfd_saveFileDialog(memAddressSafe(aTitle), memAddressSafe(aDefaultPathAndFile), remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), memAddressSafe(aSingleFilterDescription));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, ntinyfd_saveFileDialog(memAddressSafe(aTitle), memAddressSafe(aDefaultPathAndFile), remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), memAddressSafe(aSingleFilterDescription)));
         return memUTF8Safe(__result);
     }
 
@@ -353,7 +362,8 @@ public class TinyFileDialogs {
             long aDefaultPathAndFileEncoded = aDefaultPathAndFile == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(aSingleFilterDescription, true);
             long aSingleFilterDescriptionEncoded = aSingleFilterDescription == null ? NULL : stack.getPointerAddress();
-            long __result = ntinyfd_saveFileDialog(aTitleEncoded, aDefaultPathAndFileEncoded, remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), aSingleFilterDescriptionEncoded);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, ntinyfd_saveFileDialog(aTitleEncoded, aDefaultPathAndFileEncoded, remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), aSingleFilterDescriptionEncoded));
             return memUTF8Safe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -388,7 +398,8 @@ public class TinyFileDialogs {
             checkNT1Safe(aDefaultPathAndFile);
             checkNT1Safe(aSingleFilterDescription);
         }
-        long __result = ntinyfd_openFileDialog(memAddressSafe(aTitle), memAddressSafe(aDefaultPathAndFile), remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), memAddressSafe(aSingleFilterDescription), aAllowMultipleSelects ? 1 : 0);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, ntinyfd_openFileDialog(memAddressSafe(aTitle), memAddressSafe(aDefaultPathAndFile), remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), memAddressSafe(aSingleFilterDescription), aAllowMultipleSelects ? 1 : 0));
         return memUTF8Safe(__result);
     }
 
@@ -414,7 +425,8 @@ public class TinyFileDialogs {
             long aDefaultPathAndFileEncoded = aDefaultPathAndFile == null ? NULL : stack.getPointerAddress();
             stack.nUTF8Safe(aSingleFilterDescription, true);
             long aSingleFilterDescriptionEncoded = aSingleFilterDescription == null ? NULL : stack.getPointerAddress();
-            long __result = ntinyfd_openFileDialog(aTitleEncoded, aDefaultPathAndFileEncoded, remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), aSingleFilterDescriptionEncoded, aAllowMultipleSelects ? 1 : 0);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 4, __start, ntinyfd_openFileDialog(aTitleEncoded, aDefaultPathAndFileEncoded, remainingSafe(aFilterPatterns), memAddressSafe(aFilterPatterns), aSingleFilterDescriptionEncoded, aAllowMultipleSelects ? 1 : 0));
             return memUTF8Safe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -439,7 +451,8 @@ public class TinyFileDialogs {
             checkNT1Safe(aTitle);
             checkNT1(aDefaultPath);
         }
-        long __result = ntinyfd_selectFolderDialog(memAddressSafe(aTitle), memAddress(aDefaultPath));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, ntinyfd_selectFolderDialog(memAddressSafe(aTitle), memAddress(aDefaultPath)));
         return memUTF8Safe(__result);
     }
 
@@ -458,7 +471,8 @@ public class TinyFileDialogs {
             long aTitleEncoded = aTitle == null ? NULL : stack.getPointerAddress();
             stack.nUTF8(aDefaultPath, true);
             long aDefaultPathEncoded = stack.getPointerAddress();
-            long __result = ntinyfd_selectFolderDialog(aTitleEncoded, aDefaultPathEncoded);
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 5, __start, ntinyfd_selectFolderDialog(aTitleEncoded, aDefaultPathEncoded));
             return memUTF8Safe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -489,7 +503,8 @@ public class TinyFileDialogs {
             checkSafe(aDefaultRGB, 3);
             check(aoResultRGB, 3);
         }
-        long __result = ntinyfd_colorChooser(memAddressSafe(aTitle), memAddressSafe(aDefaultHexRGB), memAddressSafe(aDefaultRGB), memAddress(aoResultRGB));
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, ntinyfd_colorChooser(memAddressSafe(aTitle), memAddressSafe(aDefaultHexRGB), memAddressSafe(aDefaultRGB), memAddress(aoResultRGB)));
         return memUTF8Safe(__result);
     }
 
@@ -516,7 +531,8 @@ public class TinyFileDialogs {
             long aTitleEncoded = aTitle == null ? NULL : stack.getPointerAddress();
             stack.nASCIISafe(aDefaultHexRGB, true);
             long aDefaultHexRGBEncoded = aDefaultHexRGB == null ? NULL : stack.getPointerAddress();
-            long __result = ntinyfd_colorChooser(aTitleEncoded, aDefaultHexRGBEncoded, memAddressSafe(aDefaultRGB), memAddress(aoResultRGB));
+            long __start = FunctionProfiler.start();
+            long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, ntinyfd_colorChooser(aTitleEncoded, aDefaultHexRGBEncoded, memAddressSafe(aDefaultRGB), memAddress(aoResultRGB)));
             return memUTF8Safe(__result);
         } finally {
             stack.setPointer(stackPointer);
@@ -1534,6 +1534,8 @@ public class Vma {
         VMA_POOL_CREATE_BUDDY_ALGORITHM_BIT                 = 0x8,
         VMA_POOL_CREATE_ALGORITHM_MASK                      = VMA_POOL_CREATE_LINEAR_ALGORITHM_BIT | VMA_POOL_CREATE_BUDDY_ALGORITHM_BIT;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Vma.class, "vmaCreateAllocator,vmaDestroyAllocator,vmaGetPhysicalDeviceProperties,vmaGetMemoryProperties,vmaGetMemoryTypeProperties,vmaSetCurrentFrameIndex,vmaCalculateStats,vmaBuildStatsString,vmaFreeStatsString,vmaFindMemoryTypeIndex,vmaFindMemoryTypeIndexForBufferInfo,vmaFindMemoryTypeIndexForImageInfo,vmaCreatePool,vmaDestroyPool,vmaGetPoolStats,vmaMakePoolAllocationsLost,vmaCheckPoolCorruption,vmaAllocateMemory,vmaAllocateMemoryPages,vmaAllocateMemoryForBuffer,vmaAllocateMemoryForImage,vmaFreeMemory,vmaFreeMemoryPages,vmaResizeAllocation,vmaGetAllocationInfo,vmaTouchAllocation,vmaSetAllocationUserData,vmaCreateLostAllocation,vmaMapMemory,vmaUnmapMemory,vmaFlushAllocation,vmaInvalidateAllocation,vmaCheckCorruption,vmaDefragmentationBegin,vmaDefragmentationEnd,vmaDefragment,vmaBindBufferMemory,vmaBindBufferMemory2,vmaBindImageMemory,vmaBindImageMemory2,vmaCreateBuffer,vmaDestroyBuffer,vmaCreateImage,vmaDestroyImage");
+
     static { LibVma.initialize(); }
 
     protected Vma() {
@@ -1556,7 +1558,8 @@ public class Vma {
             check(pAllocator, 1);
             VmaAllocatorCreateInfo.validate(pCreateInfo.address());
         }
-        return nvmaCreateAllocator(pCreateInfo.address(), memAddress(pAllocator));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nvmaCreateAllocator(pCreateInfo.address(), memAddress(pAllocator)));
     }
 
     // --- [ vmaDestroyAllocator ] ---
@@ -1569,7 +1572,9 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
+        long __start = FunctionProfiler.start();
         nvmaDestroyAllocator(allocator);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ vmaGetPhysicalDeviceProperties ] ---
@@ -1586,7 +1591,9 @@ public class Vma {
             check(allocator);
             check(ppPhysicalDeviceProperties, 1);
         }
+        long __start = FunctionProfiler.start();
         nvmaGetPhysicalDeviceProperties(allocator, memAddress(ppPhysicalDeviceProperties));
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ vmaGetMemoryProperties ] ---
@@ -1603,7 +1610,9 @@ public class Vma {
             check(allocator);
             check(ppPhysicalDeviceMemoryProperties, 1);
         }
+        long __start = FunctionProfiler.start();
         nvmaGetMemoryProperties(allocator, memAddress(ppPhysicalDeviceMemoryProperties));
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ vmaGetMemoryTypeProperties ] ---
@@ -1621,7 +1630,9 @@ public class Vma {
             check(allocator);
             check(pFlags, 1);
         }
+        long __start = FunctionProfiler.start();
         nvmaGetMemoryTypeProperties(allocator, memoryTypeIndex, memAddress(pFlags));
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ vmaSetCurrentFrameIndex ] ---
@@ -1639,7 +1650,9 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
+        long __start = FunctionProfiler.start();
         nvmaSetCurrentFrameIndex(allocator, frameIndex);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ vmaCalculateStats ] ---
@@ -1652,7 +1665,9 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
+        long __start = FunctionProfiler.start();
         nvmaCalculateStats(allocator, pStats.address());
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ vmaBuildStatsString ] ---
@@ -1670,7 +1685,9 @@ public class Vma {
             check(allocator);
             check(ppStatsString, 1);
         }
+        long __start = FunctionProfiler.start();
         nvmaBuildStatsString(allocator, memAddress(ppStatsString), detailedMap ? 1 : 0);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ vmaFreeStatsString ] ---
@@ -1682,7 +1699,9 @@ public class Vma {
             check(allocator);
             checkNT1(pStatsString);
         }
+        long __start = FunctionProfiler.start();
         nvmaFreeStatsString(allocator, memAddress(pStatsString));
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ vmaFindMemoryTypeIndex ] ---
@@ -1714,7 +1733,8 @@ public class Vma {
             check(allocator);
             check(pMemoryTypeIndex, 1);
         }
-        return nvmaFindMemoryTypeIndex(allocator, memoryTypeBits, pAllocationCreateInfo.address(), memAddress(pMemoryTypeIndex));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nvmaFindMemoryTypeIndex(allocator, memoryTypeBits, pAllocationCreateInfo.address(), memAddress(pMemoryTypeIndex)));
     }
 
     // --- [ vmaFindMemoryTypeIndexForBufferInfo ] ---
@@ -1742,7 +1762,8 @@ public class Vma {
             check(pMemoryTypeIndex, 1);
             VkBufferCreateInfo.validate(pBufferCreateInfo.address());
         }
-        return nvmaFindMemoryTypeIndexForBufferInfo(allocator, pBufferCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pMemoryTypeIndex));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nvmaFindMemoryTypeIndexForBufferInfo(allocator, pBufferCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pMemoryTypeIndex)));
     }
 
     // --- [ vmaFindMemoryTypeIndexForImageInfo ] ---
@@ -1770,7 +1791,8 @@ public class Vma {
             check(pMemoryTypeIndex, 1);
             VkImageCreateInfo.validate(pImageCreateInfo.address());
         }
-        return nvmaFindMemoryTypeIndexForImageInfo(allocator, pImageCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pMemoryTypeIndex));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nvmaFindMemoryTypeIndexForImageInfo(allocator, pImageCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pMemoryTypeIndex)));
     }
 
     // --- [ vmaCreatePool ] ---
@@ -1791,7 +1813,8 @@ public class Vma {
             check(allocator);
             check(pPool, 1);
         }
-        return nvmaCreatePool(allocator, pCreateInfo.address(), memAddress(pPool));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nvmaCreatePool(allocator, pCreateInfo.address(), memAddress(pPool)));
     }
 
     // --- [ vmaDestroyPool ] ---
@@ -1805,7 +1828,9 @@ public class Vma {
             check(allocator);
             check(pool);
         }
+        long __start = FunctionProfiler.start();
         nvmaDestroyPool(allocator, pool);
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ vmaGetPoolStats ] ---
@@ -1825,7 +1850,9 @@ public class Vma {
             check(allocator);
             check(pool);
         }
+        long __start = FunctionProfiler.start();
         nvmaGetPoolStats(allocator, pool, pPoolStats.address());
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ vmaMakePoolAllocationsLost ] ---
@@ -1846,7 +1873,9 @@ public class Vma {
             check(pool);
             checkSafe(pLostAllocationCount, 1);
         }
+        long __start = FunctionProfiler.start();
         nvmaMakePoolAllocationsLost(allocator, pool, memAddressSafe(pLostAllocationCount));
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -1864,7 +1893,9 @@ public class Vma {
         MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
         try {
             PointerBuffer pLostAllocationCount = stack.callocPointer(1);
+            long __start = FunctionProfiler.start();
             nvmaMakePoolAllocationsLost(allocator, pool, memAddress(pLostAllocationCount));
+            FunctionProfiler.end(PROFILE_ID + 15, __start);
             return pLostAllocationCount.get(0);
         } finally {
             stack.setPointer(stackPointer);
@@ -1898,7 +1929,8 @@ public class Vma {
             check(allocator);
             check(pool);
         }
-        return nvmaCheckPoolCorruption(allocator, pool);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nvmaCheckPoolCorruption(allocator, pool));
     }
 
     // --- [ vmaAllocateMemory ] ---
@@ -1922,7 +1954,8 @@ public class Vma {
             check(allocator);
             check(pAllocation, 1);
         }
-        return nvmaAllocateMemory(allocator, pVkMemoryRequirements.address(), pCreateInfo.address(), memAddress(pAllocation), memAddressSafe(pAllocationInfo));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nvmaAllocateMemory(allocator, pVkMemoryRequirements.address(), pCreateInfo.address(), memAddress(pAllocation), memAddressSafe(pAllocationInfo)));
     }
 
     // --- [ vmaAllocateMemoryPages ] ---
@@ -1960,7 +1993,8 @@ public class Vma {
             checkSafe(pAllocationInfo, pAllocations.remaining());
             check(pAllocations, 1);
         }
-        return nvmaAllocateMemoryPages(allocator, pVkMemoryRequirements.address(), pCreateInfo.address(), pAllocations.remaining(), memAddress(pAllocations), memAddressSafe(pAllocationInfo));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nvmaAllocateMemoryPages(allocator, pVkMemoryRequirements.address(), pCreateInfo.address(), pAllocations.remaining(), memAddress(pAllocations), memAddressSafe(pAllocationInfo)));
     }
 
     // --- [ vmaAllocateMemoryForBuffer ] ---
@@ -1982,7 +2016,8 @@ public class Vma {
             check(allocator);
             check(pAllocation, 1);
         }
-        return nvmaAllocateMemoryForBuffer(allocator, buffer, pCreateInfo.address(), memAddress(pAllocation), memAddressSafe(pAllocationInfo));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nvmaAllocateMemoryForBuffer(allocator, buffer, pCreateInfo.address(), memAddress(pAllocation), memAddressSafe(pAllocationInfo)));
     }
 
     // --- [ vmaAllocateMemoryForImage ] ---
@@ -2002,7 +2037,8 @@ public class Vma {
             check(allocator);
             check(pAllocation, 1);
         }
-        return nvmaAllocateMemoryForImage(allocator, image, pCreateInfo.address(), memAddress(pAllocation), memAddressSafe(pAllocationInfo));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nvmaAllocateMemoryForImage(allocator, image, pCreateInfo.address(), memAddress(pAllocation), memAddressSafe(pAllocationInfo)));
     }
 
     // --- [ vmaFreeMemory ] ---
@@ -2019,7 +2055,9 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
+        long __start = FunctionProfiler.start();
         nvmaFreeMemory(allocator, allocation);
+        FunctionProfiler.end(PROFILE_ID + 21, __start);
     }
 
     // --- [ vmaFreeMemoryPages ] ---
@@ -2041,7 +2079,9 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
+        long __start = FunctionProfiler.start();
         nvmaFreeMemoryPages(allocator, pAllocations.remaining(), memAddress(pAllocations));
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ vmaResizeAllocation ] ---
@@ -2065,7 +2105,8 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
-        return nvmaResizeAllocation(allocator, allocation, newSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nvmaResizeAllocation(allocator, allocation, newSize));
     }
 
     // --- [ vmaGetAllocationInfo ] ---
@@ -2094,7 +2135,9 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
+        long __start = FunctionProfiler.start();
         nvmaGetAllocationInfo(allocator, allocation, pAllocationInfo.address());
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ vmaTouchAllocation ] ---
@@ -2120,7 +2163,8 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
-        return nvmaTouchAllocation(allocator, allocation) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nvmaTouchAllocation(allocator, allocation)) != 0;
     }
 
     // --- [ vmaSetAllocationUserData ] ---
@@ -2145,7 +2189,9 @@ public class Vma {
             check(allocation);
             check(pUserData);
         }
+        long __start = FunctionProfiler.start();
         nvmaSetAllocationUserData(allocator, allocation, pUserData);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     // --- [ vmaCreateLostAllocation ] ---
@@ -2168,7 +2214,9 @@ public class Vma {
             check(allocator);
             check(pAllocation, 1);
         }
+        long __start = FunctionProfiler.start();
         nvmaCreateLostAllocation(allocator, memAddress(pAllocation));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ vmaMapMemory ] ---
@@ -2209,7 +2257,8 @@ public class Vma {
             check(allocation);
             check(ppData, 1);
         }
-        return nvmaMapMemory(allocator, allocation, memAddress(ppData));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nvmaMapMemory(allocator, allocation, memAddress(ppData)));
     }
 
     // --- [ vmaUnmapMemory ] ---
@@ -2227,7 +2276,9 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
+        long __start = FunctionProfiler.start();
         nvmaUnmapMemory(allocator, allocation);
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ vmaFlushAllocation ] ---
@@ -2256,7 +2307,9 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
+        long __start = FunctionProfiler.start();
         nvmaFlushAllocation(allocator, allocation, offset, size);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ vmaInvalidateAllocation ] ---
@@ -2285,7 +2338,9 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
+        long __start = FunctionProfiler.start();
         nvmaInvalidateAllocation(allocator, allocation, offset, size);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     // --- [ vmaCheckCorruption ] ---
@@ -2316,7 +2371,8 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
-        return nvmaCheckCorruption(allocator, memoryTypeBits);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, nvmaCheckCorruption(allocator, memoryTypeBits));
     }
 
     // --- [ vmaDefragmentationBegin ] ---
@@ -2358,7 +2414,8 @@ public class Vma {
             check(pContext, 1);
             VmaDefragmentationInfo2.validate(pInfo.address());
         }
-        return nvmaDefragmentationBegin(allocator, pInfo.address(), memAddressSafe(pStats), memAddress(pContext));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nvmaDefragmentationBegin(allocator, pInfo.address(), memAddressSafe(pStats), memAddress(pContext)));
     }
 
     // --- [ vmaDefragmentationEnd ] ---
@@ -2379,7 +2436,8 @@ public class Vma {
         if (CHECKS) {
             check(allocator);
         }
-        return nvmaDefragmentationEnd(allocator, context);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, nvmaDefragmentationEnd(allocator, context));
     }
 
     // --- [ vmaDefragment ] ---
@@ -2432,7 +2490,8 @@ public class Vma {
             check(allocator);
             checkSafe(pAllocationsChanged, pAllocations.remaining());
         }
-        return nvmaDefragment(allocator, memAddress(pAllocations), pAllocations.remaining(), memAddressSafe(pAllocationsChanged), memAddressSafe(pDefragmentationInfo), memAddressSafe(pDefragmentationStats));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nvmaDefragment(allocator, memAddress(pAllocations), pAllocations.remaining(), memAddressSafe(pAllocationsChanged), memAddressSafe(pDefragmentationInfo), memAddressSafe(pDefragmentationStats)));
     }
 
     // --- [ vmaBindBufferMemory ] ---
@@ -2456,7 +2515,8 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
-        return nvmaBindBufferMemory(allocator, allocation, buffer);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nvmaBindBufferMemory(allocator, allocation, buffer));
     }
 
     // --- [ vmaBindBufferMemory2 ] ---
@@ -2481,7 +2541,8 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
-        return nvmaBindBufferMemory2(allocator, allocation, allocationLocalOffset, buffer, pNext);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, nvmaBindBufferMemory2(allocator, allocation, allocationLocalOffset, buffer, pNext));
     }
 
     // --- [ vmaBindImageMemory ] ---
@@ -2505,7 +2566,8 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
-        return nvmaBindImageMemory(allocator, allocation, image);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, nvmaBindImageMemory(allocator, allocation, image));
     }
 
     // --- [ vmaBindImageMemory2 ] ---
@@ -2530,7 +2592,8 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
-        return nvmaBindImageMemory2(allocator, allocation, allocationLocalOffset, image, pNext);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, nvmaBindImageMemory2(allocator, allocation, allocationLocalOffset, image, pNext));
     }
 
     // --- [ vmaCreateBuffer ] ---
@@ -2570,7 +2633,8 @@ public class Vma {
             check(pAllocation, 1);
             VkBufferCreateInfo.validate(pBufferCreateInfo.address());
         }
-        return nvmaCreateBuffer(allocator, pBufferCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pBuffer), memAddress(pAllocation), memAddressSafe(pAllocationInfo));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, nvmaCreateBuffer(allocator, pBufferCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pBuffer), memAddress(pAllocation), memAddressSafe(pAllocationInfo)));
     }
 
     // --- [ vmaDestroyBuffer ] ---
@@ -2594,7 +2658,9 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
+        long __start = FunctionProfiler.start();
         nvmaDestroyBuffer(allocator, buffer, allocation);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ vmaCreateImage ] ---
@@ -2617,7 +2683,8 @@ public class Vma {
             check(pAllocation, 1);
             VkImageCreateInfo.validate(pImageCreateInfo.address());
         }
-        return nvmaCreateImage(allocator, pImageCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pImage), memAddress(pAllocation), memAddressSafe(pAllocationInfo));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, nvmaCreateImage(allocator, pImageCreateInfo.address(), pAllocationCreateInfo.address(), memAddress(pImage), memAddress(pAllocation), memAddressSafe(pAllocationInfo)));
     }
 
     // --- [ vmaDestroyImage ] ---
@@ -2641,7 +2708,9 @@ public class Vma {
             check(allocator);
             check(allocation);
         }
+        long __start = FunctionProfiler.start();
         nvmaDestroyImage(allocator, image, allocation);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
 }
\ No newline at end of file
@@ -289,6 +289,24 @@ public class VmaAllocationCreateInfo extends Struct implements NativeResource {
         return wrap(VmaAllocationCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaAllocationCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaAllocationCreateInfo malloc(MemoryArena arena) {
+        return wrap(VmaAllocationCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaAllocationCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaAllocationCreateInfo calloc(MemoryArena arena) {
+        return wrap(VmaAllocationCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaAllocationCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class VmaAllocationCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaAllocationCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaAllocationCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaAllocationCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaAllocationCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #flags}. */
@@ -434,6 +472,48 @@ public class VmaAllocationCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pUserData} field. */
         public VmaAllocationCreateInfo.Buffer pUserData(@NativeType("void *") long value) { VmaAllocationCreateInfo.npUserData(address(), value); return this; }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationCreateInfo.Buffer getFlags(int[] dst) { gather(VmaAllocationCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VmaAllocationCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationCreateInfo.Buffer getUsage(int[] dst) { gather(VmaAllocationCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationCreateInfo.Buffer getUsage(IntBuffer dst) { gather(VmaAllocationCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code requiredFlags} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationCreateInfo.Buffer getRequiredFlags(int[] dst) { gather(VmaAllocationCreateInfo.REQUIREDFLAGS, dst); return this; }
+        /** Copies the {@code requiredFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationCreateInfo.Buffer getRequiredFlags(IntBuffer dst) { gather(VmaAllocationCreateInfo.REQUIREDFLAGS, dst); return this; }
+        /** Copies the {@code preferredFlags} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationCreateInfo.Buffer getPreferredFlags(int[] dst) { gather(VmaAllocationCreateInfo.PREFERREDFLAGS, dst); return this; }
+        /** Copies the {@code preferredFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationCreateInfo.Buffer getPreferredFlags(IntBuffer dst) { gather(VmaAllocationCreateInfo.PREFERREDFLAGS, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationCreateInfo.Buffer getMemoryTypeBits(int[] dst) { gather(VmaAllocationCreateInfo.MEMORYTYPEBITS, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationCreateInfo.Buffer getMemoryTypeBits(IntBuffer dst) { gather(VmaAllocationCreateInfo.MEMORYTYPEBITS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putFlags(int[] src) { scatter(VmaAllocationCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VmaAllocationCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putUsage(int[] src) { scatter(VmaAllocationCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putUsage(IntBuffer src) { scatter(VmaAllocationCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code requiredFlags} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putRequiredFlags(int[] src) { scatter(VmaAllocationCreateInfo.REQUIREDFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code requiredFlags} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putRequiredFlags(IntBuffer src) { scatter(VmaAllocationCreateInfo.REQUIREDFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code preferredFlags} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putPreferredFlags(int[] src) { scatter(VmaAllocationCreateInfo.PREFERREDFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code preferredFlags} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putPreferredFlags(IntBuffer src) { scatter(VmaAllocationCreateInfo.PREFERREDFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryTypeBits} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putMemoryTypeBits(int[] src) { scatter(VmaAllocationCreateInfo.MEMORYTYPEBITS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryTypeBits} field of the structs between the current position and limit. */
+        public VmaAllocationCreateInfo.Buffer putMemoryTypeBits(IntBuffer src) { scatter(VmaAllocationCreateInfo.MEMORYTYPEBITS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -239,6 +239,24 @@ public class VmaAllocationInfo extends Struct implements NativeResource {
         return wrap(VmaAllocationInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaAllocationInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaAllocationInfo malloc(MemoryArena arena) {
+        return wrap(VmaAllocationInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaAllocationInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaAllocationInfo calloc(MemoryArena arena) {
+        return wrap(VmaAllocationInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaAllocationInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VmaAllocationInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaAllocationInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaAllocationInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaAllocationInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaAllocationInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #memoryType}. */
@@ -349,6 +387,23 @@ public class VmaAllocationInfo extends Struct implements NativeResource {
         @NativeType("void *")
         public long pUserData() { return VmaAllocationInfo.npUserData(address()); }
 
+        /** Copies the {@code memoryType} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationInfo.Buffer getMemoryType(int[] dst) { gather(VmaAllocationInfo.MEMORYTYPE, dst); return this; }
+        /** Copies the {@code memoryType} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationInfo.Buffer getMemoryType(IntBuffer dst) { gather(VmaAllocationInfo.MEMORYTYPE, dst); return this; }
+        /** Copies the {@code deviceMemory} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationInfo.Buffer getDeviceMemory(long[] dst) { gather(VmaAllocationInfo.DEVICEMEMORY, dst); return this; }
+        /** Copies the {@code deviceMemory} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationInfo.Buffer getDeviceMemory(LongBuffer dst) { gather(VmaAllocationInfo.DEVICEMEMORY, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationInfo.Buffer getOffset(long[] dst) { gather(VmaAllocationInfo.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationInfo.Buffer getOffset(LongBuffer dst) { gather(VmaAllocationInfo.OFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VmaAllocationInfo.Buffer getSize(long[] dst) { gather(VmaAllocationInfo.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VmaAllocationInfo.Buffer getSize(LongBuffer dst) { gather(VmaAllocationInfo.SIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
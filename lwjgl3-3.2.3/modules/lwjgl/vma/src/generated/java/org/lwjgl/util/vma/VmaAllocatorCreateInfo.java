@@ -307,6 +307,24 @@ public class VmaAllocatorCreateInfo extends Struct implements NativeResource {
         return wrap(VmaAllocatorCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaAllocatorCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaAllocatorCreateInfo malloc(MemoryArena arena) {
+        return wrap(VmaAllocatorCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaAllocatorCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaAllocatorCreateInfo calloc(MemoryArena arena) {
+        return wrap(VmaAllocatorCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #flags}. */
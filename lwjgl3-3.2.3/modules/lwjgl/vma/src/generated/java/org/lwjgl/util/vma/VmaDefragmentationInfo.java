@@ -218,6 +218,24 @@ public class VmaDefragmentationInfo extends Struct implements NativeResource {
         return wrap(VmaDefragmentationInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaDefragmentationInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo malloc(MemoryArena arena) {
+        return wrap(VmaDefragmentationInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaDefragmentationInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo calloc(MemoryArena arena) {
+        return wrap(VmaDefragmentationInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaDefragmentationInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -256,6 +274,26 @@ public class VmaDefragmentationInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaDefragmentationInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaDefragmentationInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #maxBytesToMove}. */
@@ -318,6 +356,24 @@ public class VmaDefragmentationInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code maxAllocationsToMove} field. */
         public VmaDefragmentationInfo.Buffer maxAllocationsToMove(@NativeType("uint32_t") int value) { VmaDefragmentationInfo.nmaxAllocationsToMove(address(), value); return this; }
 
+        /** Copies the {@code maxBytesToMove} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo.Buffer getMaxBytesToMove(long[] dst) { gather(VmaDefragmentationInfo.MAXBYTESTOMOVE, dst); return this; }
+        /** Copies the {@code maxBytesToMove} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo.Buffer getMaxBytesToMove(LongBuffer dst) { gather(VmaDefragmentationInfo.MAXBYTESTOMOVE, dst); return this; }
+        /** Copies the {@code maxAllocationsToMove} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo.Buffer getMaxAllocationsToMove(int[] dst) { gather(VmaDefragmentationInfo.MAXALLOCATIONSTOMOVE, dst); return this; }
+        /** Copies the {@code maxAllocationsToMove} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo.Buffer getMaxAllocationsToMove(IntBuffer dst) { gather(VmaDefragmentationInfo.MAXALLOCATIONSTOMOVE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code maxBytesToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo.Buffer putMaxBytesToMove(long[] src) { scatter(VmaDefragmentationInfo.MAXBYTESTOMOVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxBytesToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo.Buffer putMaxBytesToMove(LongBuffer src) { scatter(VmaDefragmentationInfo.MAXBYTESTOMOVE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxAllocationsToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo.Buffer putMaxAllocationsToMove(int[] src) { scatter(VmaDefragmentationInfo.MAXALLOCATIONSTOMOVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxAllocationsToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo.Buffer putMaxAllocationsToMove(IntBuffer src) { scatter(VmaDefragmentationInfo.MAXALLOCATIONSTOMOVE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -364,6 +364,24 @@ public class VmaDefragmentationInfo2 extends Struct implements NativeResource {
         return wrap(VmaDefragmentationInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaDefragmentationInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo2 malloc(MemoryArena arena) {
+        return wrap(VmaDefragmentationInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaDefragmentationInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo2 calloc(MemoryArena arena) {
+        return wrap(VmaDefragmentationInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaDefragmentationInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -402,6 +420,26 @@ public class VmaDefragmentationInfo2 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaDefragmentationInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaDefragmentationInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaDefragmentationInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #flags}. */
@@ -569,6 +607,64 @@ public class VmaDefragmentationInfo2 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code commandBuffer} field. */
         public VmaDefragmentationInfo2.Buffer commandBuffer(@Nullable VkCommandBuffer value) { VmaDefragmentationInfo2.ncommandBuffer(address(), value); return this; }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getFlags(int[] dst) { gather(VmaDefragmentationInfo2.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getFlags(IntBuffer dst) { gather(VmaDefragmentationInfo2.FLAGS, dst); return this; }
+        /** Copies the {@code allocationCount} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getAllocationCount(int[] dst) { gather(VmaDefragmentationInfo2.ALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code allocationCount} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getAllocationCount(IntBuffer dst) { gather(VmaDefragmentationInfo2.ALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code poolCount} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getPoolCount(int[] dst) { gather(VmaDefragmentationInfo2.POOLCOUNT, dst); return this; }
+        /** Copies the {@code poolCount} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getPoolCount(IntBuffer dst) { gather(VmaDefragmentationInfo2.POOLCOUNT, dst); return this; }
+        /** Copies the {@code maxCpuBytesToMove} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getMaxCpuBytesToMove(long[] dst) { gather(VmaDefragmentationInfo2.MAXCPUBYTESTOMOVE, dst); return this; }
+        /** Copies the {@code maxCpuBytesToMove} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getMaxCpuBytesToMove(LongBuffer dst) { gather(VmaDefragmentationInfo2.MAXCPUBYTESTOMOVE, dst); return this; }
+        /** Copies the {@code maxCpuAllocationsToMove} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getMaxCpuAllocationsToMove(int[] dst) { gather(VmaDefragmentationInfo2.MAXCPUALLOCATIONSTOMOVE, dst); return this; }
+        /** Copies the {@code maxCpuAllocationsToMove} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getMaxCpuAllocationsToMove(IntBuffer dst) { gather(VmaDefragmentationInfo2.MAXCPUALLOCATIONSTOMOVE, dst); return this; }
+        /** Copies the {@code maxGpuBytesToMove} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getMaxGpuBytesToMove(long[] dst) { gather(VmaDefragmentationInfo2.MAXGPUBYTESTOMOVE, dst); return this; }
+        /** Copies the {@code maxGpuBytesToMove} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getMaxGpuBytesToMove(LongBuffer dst) { gather(VmaDefragmentationInfo2.MAXGPUBYTESTOMOVE, dst); return this; }
+        /** Copies the {@code maxGpuAllocationsToMove} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationInfo2.Buffer getMaxGpuAllocationsToMove(int[] dst) { gather(VmaDefragmentationInfo2.MAXGPUALLOCATIONSTOMOVE, dst); return this; }
+        /** Copies the {@code maxGpuAllocationsToMove} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationInfo2.Buffer getMaxGpuAllocationsToMove(IntBuffer dst) { gather(VmaDefragmentationInfo2.MAXGPUALLOCATIONSTOMOVE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putFlags(int[] src) { scatter(VmaDefragmentationInfo2.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putFlags(IntBuffer src) { scatter(VmaDefragmentationInfo2.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code allocationCount} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putAllocationCount(int[] src) { scatter(VmaDefragmentationInfo2.ALLOCATIONCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code allocationCount} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putAllocationCount(IntBuffer src) { scatter(VmaDefragmentationInfo2.ALLOCATIONCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code poolCount} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putPoolCount(int[] src) { scatter(VmaDefragmentationInfo2.POOLCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code poolCount} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putPoolCount(IntBuffer src) { scatter(VmaDefragmentationInfo2.POOLCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code maxCpuBytesToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxCpuBytesToMove(long[] src) { scatter(VmaDefragmentationInfo2.MAXCPUBYTESTOMOVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxCpuBytesToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxCpuBytesToMove(LongBuffer src) { scatter(VmaDefragmentationInfo2.MAXCPUBYTESTOMOVE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxCpuAllocationsToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxCpuAllocationsToMove(int[] src) { scatter(VmaDefragmentationInfo2.MAXCPUALLOCATIONSTOMOVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxCpuAllocationsToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxCpuAllocationsToMove(IntBuffer src) { scatter(VmaDefragmentationInfo2.MAXCPUALLOCATIONSTOMOVE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxGpuBytesToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxGpuBytesToMove(long[] src) { scatter(VmaDefragmentationInfo2.MAXGPUBYTESTOMOVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxGpuBytesToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxGpuBytesToMove(LongBuffer src) { scatter(VmaDefragmentationInfo2.MAXGPUBYTESTOMOVE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxGpuAllocationsToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxGpuAllocationsToMove(int[] src) { scatter(VmaDefragmentationInfo2.MAXGPUALLOCATIONSTOMOVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxGpuAllocationsToMove} field of the structs between the current position and limit. */
+        public VmaDefragmentationInfo2.Buffer putMaxGpuAllocationsToMove(IntBuffer src) { scatter(VmaDefragmentationInfo2.MAXGPUALLOCATIONSTOMOVE, src); return this; }
+
     }
 
 }
\ No newline at end of file
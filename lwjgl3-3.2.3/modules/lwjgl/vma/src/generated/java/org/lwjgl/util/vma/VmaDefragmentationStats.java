@@ -198,6 +198,24 @@ public class VmaDefragmentationStats extends Struct implements NativeResource {
         return wrap(VmaDefragmentationStats.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaDefragmentationStats} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaDefragmentationStats malloc(MemoryArena arena) {
+        return wrap(VmaDefragmentationStats.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaDefragmentationStats} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaDefragmentationStats calloc(MemoryArena arena) {
+        return wrap(VmaDefragmentationStats.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaDefragmentationStats.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -236,6 +254,26 @@ public class VmaDefragmentationStats extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaDefragmentationStats.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaDefragmentationStats.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaDefragmentationStats.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaDefragmentationStats.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #bytesMoved}. */
@@ -298,6 +336,23 @@ public class VmaDefragmentationStats extends Struct implements NativeResource {
         @NativeType("uint32_t")
         public int deviceMemoryBlocksFreed() { return VmaDefragmentationStats.ndeviceMemoryBlocksFreed(address()); }
 
+        /** Copies the {@code bytesMoved} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationStats.Buffer getBytesMoved(long[] dst) { gather(VmaDefragmentationStats.BYTESMOVED, dst); return this; }
+        /** Copies the {@code bytesMoved} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationStats.Buffer getBytesMoved(LongBuffer dst) { gather(VmaDefragmentationStats.BYTESMOVED, dst); return this; }
+        /** Copies the {@code bytesFreed} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationStats.Buffer getBytesFreed(long[] dst) { gather(VmaDefragmentationStats.BYTESFREED, dst); return this; }
+        /** Copies the {@code bytesFreed} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationStats.Buffer getBytesFreed(LongBuffer dst) { gather(VmaDefragmentationStats.BYTESFREED, dst); return this; }
+        /** Copies the {@code allocationsMoved} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationStats.Buffer getAllocationsMoved(int[] dst) { gather(VmaDefragmentationStats.ALLOCATIONSMOVED, dst); return this; }
+        /** Copies the {@code allocationsMoved} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationStats.Buffer getAllocationsMoved(IntBuffer dst) { gather(VmaDefragmentationStats.ALLOCATIONSMOVED, dst); return this; }
+        /** Copies the {@code deviceMemoryBlocksFreed} field of the structs between the current position and limit to the specified array. */
+        public VmaDefragmentationStats.Buffer getDeviceMemoryBlocksFreed(int[] dst) { gather(VmaDefragmentationStats.DEVICEMEMORYBLOCKSFREED, dst); return this; }
+        /** Copies the {@code deviceMemoryBlocksFreed} field of the structs between the current position and limit to the specified buffer. */
+        public VmaDefragmentationStats.Buffer getDeviceMemoryBlocksFreed(IntBuffer dst) { gather(VmaDefragmentationStats.DEVICEMEMORYBLOCKSFREED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -278,6 +278,24 @@ public class VmaPoolCreateInfo extends Struct implements NativeResource {
         return wrap(VmaPoolCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaPoolCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaPoolCreateInfo malloc(MemoryArena arena) {
+        return wrap(VmaPoolCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaPoolCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaPoolCreateInfo calloc(MemoryArena arena) {
+        return wrap(VmaPoolCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaPoolCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -316,6 +334,26 @@ public class VmaPoolCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaPoolCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaPoolCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #memoryTypeIndex}. */
@@ -414,6 +452,40 @@ public class VmaPoolCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code frameInUseCount} field. */
         public VmaPoolCreateInfo.Buffer frameInUseCount(@NativeType("uint32_t") int value) { VmaPoolCreateInfo.nframeInUseCount(address(), value); return this; }
 
+        /** Copies the {@code memoryTypeIndex} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolCreateInfo.Buffer getMemoryTypeIndex(int[] dst) { gather(VmaPoolCreateInfo.MEMORYTYPEINDEX, dst); return this; }
+        /** Copies the {@code memoryTypeIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolCreateInfo.Buffer getMemoryTypeIndex(IntBuffer dst) { gather(VmaPoolCreateInfo.MEMORYTYPEINDEX, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolCreateInfo.Buffer getFlags(int[] dst) { gather(VmaPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VmaPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code blockSize} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolCreateInfo.Buffer getBlockSize(long[] dst) { gather(VmaPoolCreateInfo.BLOCKSIZE, dst); return this; }
+        /** Copies the {@code blockSize} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolCreateInfo.Buffer getBlockSize(LongBuffer dst) { gather(VmaPoolCreateInfo.BLOCKSIZE, dst); return this; }
+        /** Copies the {@code frameInUseCount} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolCreateInfo.Buffer getFrameInUseCount(int[] dst) { gather(VmaPoolCreateInfo.FRAMEINUSECOUNT, dst); return this; }
+        /** Copies the {@code frameInUseCount} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolCreateInfo.Buffer getFrameInUseCount(IntBuffer dst) { gather(VmaPoolCreateInfo.FRAMEINUSECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code memoryTypeIndex} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putMemoryTypeIndex(int[] src) { scatter(VmaPoolCreateInfo.MEMORYTYPEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryTypeIndex} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putMemoryTypeIndex(IntBuffer src) { scatter(VmaPoolCreateInfo.MEMORYTYPEINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putFlags(int[] src) { scatter(VmaPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VmaPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code blockSize} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putBlockSize(long[] src) { scatter(VmaPoolCreateInfo.BLOCKSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blockSize} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putBlockSize(LongBuffer src) { scatter(VmaPoolCreateInfo.BLOCKSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code frameInUseCount} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putFrameInUseCount(int[] src) { scatter(VmaPoolCreateInfo.FRAMEINUSECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code frameInUseCount} field of the structs between the current position and limit. */
+        public VmaPoolCreateInfo.Buffer putFrameInUseCount(IntBuffer src) { scatter(VmaPoolCreateInfo.FRAMEINUSECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
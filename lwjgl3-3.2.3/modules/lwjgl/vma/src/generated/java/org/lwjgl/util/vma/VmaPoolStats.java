@@ -218,6 +218,24 @@ public class VmaPoolStats extends Struct implements NativeResource {
         return wrap(VmaPoolStats.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaPoolStats} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaPoolStats malloc(MemoryArena arena) {
+        return wrap(VmaPoolStats.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaPoolStats} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaPoolStats calloc(MemoryArena arena) {
+        return wrap(VmaPoolStats.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaPoolStats.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -256,6 +274,26 @@ public class VmaPoolStats extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaPoolStats.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaPoolStats.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaPoolStats.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaPoolStats.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #size}. */
@@ -328,6 +366,19 @@ public class VmaPoolStats extends Struct implements NativeResource {
         @NativeType("size_t")
         public long blockCount() { return VmaPoolStats.nblockCount(address()); }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolStats.Buffer getSize(long[] dst) { gather(VmaPoolStats.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolStats.Buffer getSize(LongBuffer dst) { gather(VmaPoolStats.SIZE, dst); return this; }
+        /** Copies the {@code unusedSize} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolStats.Buffer getUnusedSize(long[] dst) { gather(VmaPoolStats.UNUSEDSIZE, dst); return this; }
+        /** Copies the {@code unusedSize} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolStats.Buffer getUnusedSize(LongBuffer dst) { gather(VmaPoolStats.UNUSEDSIZE, dst); return this; }
+        /** Copies the {@code unusedRangeSizeMax} field of the structs between the current position and limit to the specified array. */
+        public VmaPoolStats.Buffer getUnusedRangeSizeMax(long[] dst) { gather(VmaPoolStats.UNUSEDRANGESIZEMAX, dst); return this; }
+        /** Copies the {@code unusedRangeSizeMax} field of the structs between the current position and limit to the specified buffer. */
+        public VmaPoolStats.Buffer getUnusedRangeSizeMax(LongBuffer dst) { gather(VmaPoolStats.UNUSEDRANGESIZEMAX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -218,6 +218,24 @@ public class VmaRecordSettings extends Struct implements NativeResource {
         return wrap(VmaRecordSettings.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaRecordSettings} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaRecordSettings malloc(MemoryArena arena) {
+        return wrap(VmaRecordSettings.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaRecordSettings} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaRecordSettings calloc(MemoryArena arena) {
+        return wrap(VmaRecordSettings.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VmaRecordSettings.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -256,6 +274,26 @@ public class VmaRecordSettings extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VmaRecordSettings.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaRecordSettings.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VmaRecordSettings.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VmaRecordSettings.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #flags}. */
@@ -347,6 +385,16 @@ public class VmaRecordSettings extends Struct implements NativeResource {
         /** Sets the address of the specified encoded string to the {@code pFilePath} field. */
         public VmaRecordSettings.Buffer pFilePath(@NativeType("char const *") ByteBuffer value) { VmaRecordSettings.npFilePath(address(), value); return this; }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VmaRecordSettings.Buffer getFlags(int[] dst) { gather(VmaRecordSettings.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VmaRecordSettings.Buffer getFlags(IntBuffer dst) { gather(VmaRecordSettings.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VmaRecordSettings.Buffer putFlags(int[] src) { scatter(VmaRecordSettings.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VmaRecordSettings.Buffer putFlags(IntBuffer src) { scatter(VmaRecordSettings.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
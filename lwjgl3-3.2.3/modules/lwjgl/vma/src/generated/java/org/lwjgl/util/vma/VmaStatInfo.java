@@ -269,6 +269,51 @@ public class VmaStatInfo extends Struct {
         @NativeType("VkDeviceSize")
         public long unusedRangeSizeMax() { return VmaStatInfo.nunusedRangeSizeMax(address()); }
 
+        /** Copies the {@code blockCount} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getBlockCount(int[] dst) { gather(VmaStatInfo.BLOCKCOUNT, dst); return this; }
+        /** Copies the {@code blockCount} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getBlockCount(IntBuffer dst) { gather(VmaStatInfo.BLOCKCOUNT, dst); return this; }
+        /** Copies the {@code allocationCount} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getAllocationCount(int[] dst) { gather(VmaStatInfo.ALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code allocationCount} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getAllocationCount(IntBuffer dst) { gather(VmaStatInfo.ALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code unusedRangeCount} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getUnusedRangeCount(int[] dst) { gather(VmaStatInfo.UNUSEDRANGECOUNT, dst); return this; }
+        /** Copies the {@code unusedRangeCount} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getUnusedRangeCount(IntBuffer dst) { gather(VmaStatInfo.UNUSEDRANGECOUNT, dst); return this; }
+        /** Copies the {@code usedBytes} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getUsedBytes(long[] dst) { gather(VmaStatInfo.USEDBYTES, dst); return this; }
+        /** Copies the {@code usedBytes} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getUsedBytes(LongBuffer dst) { gather(VmaStatInfo.USEDBYTES, dst); return this; }
+        /** Copies the {@code unusedBytes} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getUnusedBytes(long[] dst) { gather(VmaStatInfo.UNUSEDBYTES, dst); return this; }
+        /** Copies the {@code unusedBytes} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getUnusedBytes(LongBuffer dst) { gather(VmaStatInfo.UNUSEDBYTES, dst); return this; }
+        /** Copies the {@code allocationSizeMin} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getAllocationSizeMin(long[] dst) { gather(VmaStatInfo.ALLOCATIONSIZEMIN, dst); return this; }
+        /** Copies the {@code allocationSizeMin} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getAllocationSizeMin(LongBuffer dst) { gather(VmaStatInfo.ALLOCATIONSIZEMIN, dst); return this; }
+        /** Copies the {@code allocationSizeAvg} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getAllocationSizeAvg(long[] dst) { gather(VmaStatInfo.ALLOCATIONSIZEAVG, dst); return this; }
+        /** Copies the {@code allocationSizeAvg} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getAllocationSizeAvg(LongBuffer dst) { gather(VmaStatInfo.ALLOCATIONSIZEAVG, dst); return this; }
+        /** Copies the {@code allocationSizeMax} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getAllocationSizeMax(long[] dst) { gather(VmaStatInfo.ALLOCATIONSIZEMAX, dst); return this; }
+        /** Copies the {@code allocationSizeMax} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getAllocationSizeMax(LongBuffer dst) { gather(VmaStatInfo.ALLOCATIONSIZEMAX, dst); return this; }
+        /** Copies the {@code unusedRangeSizeMin} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getUnusedRangeSizeMin(long[] dst) { gather(VmaStatInfo.UNUSEDRANGESIZEMIN, dst); return this; }
+        /** Copies the {@code unusedRangeSizeMin} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getUnusedRangeSizeMin(LongBuffer dst) { gather(VmaStatInfo.UNUSEDRANGESIZEMIN, dst); return this; }
+        /** Copies the {@code unusedRangeSizeAvg} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getUnusedRangeSizeAvg(long[] dst) { gather(VmaStatInfo.UNUSEDRANGESIZEAVG, dst); return this; }
+        /** Copies the {@code unusedRangeSizeAvg} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getUnusedRangeSizeAvg(LongBuffer dst) { gather(VmaStatInfo.UNUSEDRANGESIZEAVG, dst); return this; }
+        /** Copies the {@code unusedRangeSizeMax} field of the structs between the current position and limit to the specified array. */
+        public VmaStatInfo.Buffer getUnusedRangeSizeMax(long[] dst) { gather(VmaStatInfo.UNUSEDRANGESIZEMAX, dst); return this; }
+        /** Copies the {@code unusedRangeSizeMax} field of the structs between the current position and limit to the specified buffer. */
+        public VmaStatInfo.Buffer getUnusedRangeSizeMax(LongBuffer dst) { gather(VmaStatInfo.UNUSEDRANGESIZEMAX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -373,6 +373,24 @@ public class VmaVulkanFunctions extends Struct implements NativeResource {
         return wrap(VmaVulkanFunctions.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VmaVulkanFunctions} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaVulkanFunctions malloc(MemoryArena arena) {
+        return wrap(VmaVulkanFunctions.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VmaVulkanFunctions} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VmaVulkanFunctions calloc(MemoryArena arena) {
+        return wrap(VmaVulkanFunctions.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #vkGetPhysicalDeviceProperties}. */
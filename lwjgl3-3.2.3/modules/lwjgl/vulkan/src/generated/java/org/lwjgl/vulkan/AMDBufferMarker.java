@@ -56,6 +56,8 @@ public class AMDBufferMarker {
     /** The extension name. */
     public static final String VK_AMD_BUFFER_MARKER_EXTENSION_NAME = "VK_AMD_buffer_marker";
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDBufferMarker.class, "vkCmdWriteBufferMarkerAMD");
+
     protected AMDBufferMarker() {
         throw new UnsupportedOperationException();
     }
@@ -144,7 +146,9 @@ public class AMDBufferMarker {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), pipelineStage, dstBuffer, dstOffset, marker, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
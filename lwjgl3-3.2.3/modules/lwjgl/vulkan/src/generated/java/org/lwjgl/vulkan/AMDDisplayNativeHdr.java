@@ -82,6 +82,8 @@ public class AMDDisplayNativeHdr {
     /** Extends {@code VkColorSpaceKHR}. */
     public static final int VK_COLOR_SPACE_DISPLAY_NATIVE_AMD = 1000213000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDDisplayNativeHdr.class, "vkSetLocalDimmingAMD");
+
     protected AMDDisplayNativeHdr() {
         throw new UnsupportedOperationException();
     }
@@ -130,7 +132,9 @@ public class AMDDisplayNativeHdr {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(device.address(), swapChain, localDimmingEnable ? 1 : 0, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
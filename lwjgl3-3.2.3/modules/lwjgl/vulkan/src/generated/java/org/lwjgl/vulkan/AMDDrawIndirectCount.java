@@ -60,6 +60,8 @@ public class AMDDrawIndirectCount {
     /** The extension name. */
     public static final String VK_AMD_DRAW_INDIRECT_COUNT_EXTENSION_NAME = "VK_AMD_draw_indirect_count";
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDDrawIndirectCount.class, "vkCmdDrawIndirectCountAMD,vkCmdDrawIndexedIndirectCountAMD");
+
     protected AMDDrawIndirectCount() {
         throw new UnsupportedOperationException();
     }
@@ -89,7 +91,9 @@ public class AMDDrawIndirectCount {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJJJV(commandBuffer.address(), buffer, offset, countBuffer, countBufferOffset, maxDrawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ vkCmdDrawIndexedIndirectCountAMD ] ---
@@ -110,7 +114,9 @@ public class AMDDrawIndirectCount {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJJJV(commandBuffer.address(), buffer, offset, countBuffer, countBufferOffset, maxDrawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
@@ -134,6 +134,8 @@ public class AMDShaderInfo {
         VK_SHADER_INFO_TYPE_BINARY_AMD      = 1,
         VK_SHADER_INFO_TYPE_DISASSEMBLY_AMD = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(AMDShaderInfo.class, "vkGetShaderInfoAMD");
+
     protected AMDShaderInfo() {
         throw new UnsupportedOperationException();
     }
@@ -156,7 +158,8 @@ public class AMDShaderInfo {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), pipeline, shaderStage, infoType, pInfoSize, pInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPPI(device.address(), pipeline, shaderStage, infoType, pInfoSize, pInfo, __functionAddress));
     }
 
     /**
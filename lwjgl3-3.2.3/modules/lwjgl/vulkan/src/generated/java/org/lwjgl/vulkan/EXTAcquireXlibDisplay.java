@@ -58,6 +58,8 @@ public class EXTAcquireXlibDisplay {
     /** The extension name. */
     public static final String VK_EXT_ACQUIRE_XLIB_DISPLAY_EXTENSION_NAME = "VK_EXT_acquire_xlib_display";
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTAcquireXlibDisplay.class, "vkAcquireXlibDisplayEXT,vkGetRandROutputDisplayEXT");
+
     protected EXTAcquireXlibDisplay() {
         throw new UnsupportedOperationException();
     }
@@ -125,7 +127,8 @@ public class EXTAcquireXlibDisplay {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPJI(physicalDevice.address(), dpy, display, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPJI(physicalDevice.address(), dpy, display, __functionAddress));
     }
 
     // --- [ vkGetRandROutputDisplayEXT ] ---
@@ -137,7 +140,8 @@ public class EXTAcquireXlibDisplay {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPNPI(physicalDevice.address(), dpy, rrOutput, pDisplay, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPNPI(physicalDevice.address(), dpy, rrOutput, pDisplay, __functionAddress));
     }
 
     /**
@@ -197,7 +201,8 @@ public class EXTAcquireXlibDisplay {
             check(dpy);
             check(pDisplay, 1);
         }
-        return callPPNPI(physicalDevice.address(), dpy, rrOutput, pDisplay, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPNPI(physicalDevice.address(), dpy, rrOutput, pDisplay, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -82,6 +82,8 @@ public class EXTBufferDeviceAddress {
     /** Extends {@code VkResult}. */
     public static final int VK_ERROR_INVALID_DEVICE_ADDRESS_EXT = -1000244000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTBufferDeviceAddress.class, "vkGetBufferDeviceAddressEXT");
+
     protected EXTBufferDeviceAddress() {
         throw new UnsupportedOperationException();
     }
@@ -100,7 +102,8 @@ public class EXTBufferDeviceAddress {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPJ(device.address(), pInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPJ(device.address(), pInfo, __functionAddress));
     }
 
     /**
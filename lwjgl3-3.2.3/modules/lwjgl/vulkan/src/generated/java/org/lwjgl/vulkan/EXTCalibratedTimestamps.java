@@ -104,6 +104,8 @@ public class EXTCalibratedTimestamps {
         VK_TIME_DOMAIN_CLOCK_MONOTONIC_RAW_EXT       = 2,
         VK_TIME_DOMAIN_QUERY_PERFORMANCE_COUNTER_EXT = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTCalibratedTimestamps.class, "vkGetPhysicalDeviceCalibrateableTimeDomainsEXT,vkGetCalibratedTimestampsEXT");
+
     protected EXTCalibratedTimestamps() {
         throw new UnsupportedOperationException();
     }
@@ -132,7 +134,8 @@ public class EXTCalibratedTimestamps {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pTimeDomainCount, pTimeDomains, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pTimeDomainCount, pTimeDomains, __functionAddress));
     }
 
     /**
@@ -200,7 +203,8 @@ public class EXTCalibratedTimestamps {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(device.address(), timestampCount, pTimestampInfos, pTimestamps, pMaxDeviation, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(device.address(), timestampCount, pTimestampInfos, pTimestamps, pMaxDeviation, __functionAddress));
     }
 
     /**
@@ -280,7 +284,8 @@ public class EXTCalibratedTimestamps {
             check(pTimeDomainCount, 1);
             checkSafe(pTimeDomains, pTimeDomainCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pTimeDomainCount, pTimeDomains, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pTimeDomainCount, pTimeDomains, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetCalibratedTimestampsEXT GetCalibratedTimestampsEXT} */
@@ -292,7 +297,8 @@ public class EXTCalibratedTimestamps {
             check(pTimestamps, pTimestampInfos.remaining());
             check(pMaxDeviation, 1);
         }
-        return callPPPPI(device.address(), pTimestampInfos.remaining(), pTimestampInfos.address(), pTimestamps, pMaxDeviation, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(device.address(), pTimestampInfos.remaining(), pTimestampInfos.address(), pTimestamps, pMaxDeviation, __functionAddress));
     }
 
 }
\ No newline at end of file
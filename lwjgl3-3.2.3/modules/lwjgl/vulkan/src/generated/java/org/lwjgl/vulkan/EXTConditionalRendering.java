@@ -97,6 +97,8 @@ public class EXTConditionalRendering {
      */
     public static final int VK_CONDITIONAL_RENDERING_INVERTED_BIT_EXT = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTConditionalRendering.class, "vkCmdBeginConditionalRenderingEXT,vkCmdEndConditionalRenderingEXT");
+
     protected EXTConditionalRendering() {
         throw new UnsupportedOperationException();
     }
@@ -116,7 +118,9 @@ public class EXTConditionalRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pConditionalRenderingBegin, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -225,7 +229,9 @@ public class EXTConditionalRendering {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
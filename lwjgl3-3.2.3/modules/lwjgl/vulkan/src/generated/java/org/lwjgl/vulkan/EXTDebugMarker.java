@@ -164,6 +164,8 @@ public class EXTDebugMarker {
         VK_STRUCTURE_TYPE_DEBUG_MARKER_OBJECT_TAG_INFO_EXT  = 1000022001,
         VK_STRUCTURE_TYPE_DEBUG_MARKER_MARKER_INFO_EXT      = 1000022002;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDebugMarker.class, "vkDebugMarkerSetObjectTagEXT,vkDebugMarkerSetObjectNameEXT,vkCmdDebugMarkerBeginEXT,vkCmdDebugMarkerEndEXT,vkCmdDebugMarkerInsertEXT");
+
     protected EXTDebugMarker() {
         throw new UnsupportedOperationException();
     }
@@ -187,7 +189,8 @@ public class EXTDebugMarker {
             check(__functionAddress);
             VkDebugMarkerObjectTagInfoEXT.validate(pTagInfo);
         }
-        return callPPI(device.address(), pTagInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pTagInfo, __functionAddress));
     }
 
     /**
@@ -250,7 +253,8 @@ public class EXTDebugMarker {
             check(__functionAddress);
             VkDebugMarkerObjectNameInfoEXT.validate(pNameInfo);
         }
-        return callPPI(device.address(), pNameInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(device.address(), pNameInfo, __functionAddress));
     }
 
     /**
@@ -313,7 +317,9 @@ public class EXTDebugMarker {
             check(__functionAddress);
             VkDebugMarkerMarkerInfoEXT.validate(pMarkerInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pMarkerInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -413,7 +419,9 @@ public class EXTDebugMarker {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ vkCmdDebugMarkerInsertEXT ] ---
@@ -425,7 +433,9 @@ public class EXTDebugMarker {
             check(__functionAddress);
             VkDebugMarkerMarkerInfoEXT.validate(pMarkerInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pMarkerInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
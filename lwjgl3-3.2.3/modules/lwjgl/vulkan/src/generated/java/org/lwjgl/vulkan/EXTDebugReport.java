@@ -270,6 +270,8 @@ public class EXTDebugReport {
         VK_DEBUG_REPORT_ERROR_BIT_EXT               = 0x8,
         VK_DEBUG_REPORT_DEBUG_BIT_EXT               = 0x10;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDebugReport.class, "vkCreateDebugReportCallbackEXT,vkDestroyDebugReportCallbackEXT,vkDebugReportMessageEXT");
+
     protected EXTDebugReport() {
         throw new UnsupportedOperationException();
     }
@@ -292,7 +294,8 @@ public class EXTDebugReport {
             VkDebugReportCallbackCreateInfoEXT.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pCallback, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pCallback, __functionAddress));
     }
 
     /**
@@ -359,7 +362,9 @@ public class EXTDebugReport {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(instance.address(), callback, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -417,7 +422,9 @@ public class EXTDebugReport {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJPPPV(instance.address(), flags, objectType, object, location, messageCode, pLayerPrefix, pMessage, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -549,7 +556,8 @@ public class EXTDebugReport {
             VkDebugReportCallbackCreateInfoEXT.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pCallback, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pCallback, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -338,6 +338,8 @@ public class EXTDebugUtils {
         VK_DEBUG_UTILS_MESSAGE_TYPE_VALIDATION_BIT_EXT  = 0x2,
         VK_DEBUG_UTILS_MESSAGE_TYPE_PERFORMANCE_BIT_EXT = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDebugUtils.class, "vkSetDebugUtilsObjectNameEXT,vkSetDebugUtilsObjectTagEXT,vkQueueBeginDebugUtilsLabelEXT,vkQueueEndDebugUtilsLabelEXT,vkQueueInsertDebugUtilsLabelEXT,vkCmdBeginDebugUtilsLabelEXT,vkCmdEndDebugUtilsLabelEXT,vkCmdInsertDebugUtilsLabelEXT,vkCreateDebugUtilsMessengerEXT,vkDestroyDebugUtilsMessengerEXT,vkSubmitDebugUtilsMessageEXT");
+
     protected EXTDebugUtils() {
         throw new UnsupportedOperationException();
     }
@@ -371,7 +373,8 @@ public class EXTDebugUtils {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pNameInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pNameInfo, __functionAddress));
     }
 
     /**
@@ -439,7 +442,8 @@ public class EXTDebugUtils {
             check(__functionAddress);
             VkDebugUtilsObjectTagInfoEXT.validate(pTagInfo);
         }
-        return callPPI(device.address(), pTagInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(device.address(), pTagInfo, __functionAddress));
     }
 
     /**
@@ -500,7 +504,9 @@ public class EXTDebugUtils {
             check(__functionAddress);
             VkDebugUtilsLabelEXT.validate(pLabelInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(queue.address(), pLabelInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -583,7 +589,9 @@ public class EXTDebugUtils {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(queue.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ vkQueueInsertDebugUtilsLabelEXT ] ---
@@ -595,7 +603,9 @@ public class EXTDebugUtils {
             check(__functionAddress);
             VkDebugUtilsLabelEXT.validate(pLabelInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(queue.address(), pLabelInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -644,7 +654,9 @@ public class EXTDebugUtils {
             check(__functionAddress);
             VkDebugUtilsLabelEXT.validate(pLabelInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pLabelInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -744,7 +756,9 @@ public class EXTDebugUtils {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ vkCmdInsertDebugUtilsLabelEXT ] ---
@@ -756,7 +770,9 @@ public class EXTDebugUtils {
             check(__functionAddress);
             VkDebugUtilsLabelEXT.validate(pLabelInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pLabelInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -813,7 +829,8 @@ public class EXTDebugUtils {
             VkDebugUtilsMessengerCreateInfoEXT.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pMessenger, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pMessenger, __functionAddress));
     }
 
     /**
@@ -880,7 +897,9 @@ public class EXTDebugUtils {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(instance.address(), messenger, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -941,7 +960,9 @@ public class EXTDebugUtils {
             check(__functionAddress);
             VkDebugUtilsMessengerCallbackDataEXT.validate(pCallbackData);
         }
+        long __start = FunctionProfiler.start();
         callPPV(instance.address(), messageSeverity, messageTypes, pCallbackData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1001,7 +1022,8 @@ public class EXTDebugUtils {
             VkDebugUtilsMessengerCreateInfoEXT.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pMessenger, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pMessenger, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -53,6 +53,8 @@ public class EXTDirectModeDisplay {
     /** The extension name. */
     public static final String VK_EXT_DIRECT_MODE_DISPLAY_EXTENSION_NAME = "VK_EXT_direct_mode_display";
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDirectModeDisplay.class, "vkReleaseDisplayEXT");
+
     protected EXTDirectModeDisplay() {
         throw new UnsupportedOperationException();
     }
@@ -102,7 +104,8 @@ public class EXTDirectModeDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(physicalDevice.address(), display, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJI(physicalDevice.address(), display, __functionAddress));
     }
 
 }
\ No newline at end of file
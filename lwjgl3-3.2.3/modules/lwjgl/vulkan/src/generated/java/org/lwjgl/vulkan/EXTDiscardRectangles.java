@@ -92,6 +92,8 @@ public class EXTDiscardRectangles {
         VK_DISCARD_RECTANGLE_MODE_INCLUSIVE_EXT = 0,
         VK_DISCARD_RECTANGLE_MODE_EXCLUSIVE_EXT = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDiscardRectangles.class, "vkCmdSetDiscardRectangleEXT");
+
     protected EXTDiscardRectangles() {
         throw new UnsupportedOperationException();
     }
@@ -114,7 +116,9 @@ public class EXTDiscardRectangles {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), firstDiscardRectangle, discardRectangleCount, pDiscardRectangles, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
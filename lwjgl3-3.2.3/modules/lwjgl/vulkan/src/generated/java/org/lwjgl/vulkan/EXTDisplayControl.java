@@ -127,6 +127,8 @@ public class EXTDisplayControl {
      */
     public static final int VK_DISPLAY_EVENT_TYPE_FIRST_PIXEL_OUT_EXT = 0;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDisplayControl.class, "vkDisplayPowerControlEXT,vkRegisterDeviceEventEXT,vkRegisterDisplayEventEXT,vkGetSwapchainCounterEXT");
+
     protected EXTDisplayControl() {
         throw new UnsupportedOperationException();
     }
@@ -148,7 +150,8 @@ public class EXTDisplayControl {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), display, pDisplayPowerInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPI(device.address(), display, pDisplayPowerInfo, __functionAddress));
     }
 
     /**
@@ -203,7 +206,8 @@ public class EXTDisplayControl {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pDeviceEventInfo, pAllocator, pFence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(device.address(), pDeviceEventInfo, pAllocator, pFence, __functionAddress));
     }
 
     /**
@@ -264,7 +268,8 @@ public class EXTDisplayControl {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPJPPPI(device.address(), display, pDisplayEventInfo, pAllocator, pFence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPPI(device.address(), display, pDisplayEventInfo, pAllocator, pFence, __functionAddress));
     }
 
     /**
@@ -327,7 +332,8 @@ public class EXTDisplayControl {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), swapchain, counter, pCounterValue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPI(device.address(), swapchain, counter, pCounterValue, __functionAddress));
     }
 
     /**
@@ -400,7 +406,8 @@ public class EXTDisplayControl {
             check(pFence, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pDeviceEventInfo.address(), memAddressSafe(pAllocator), pFence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(device.address(), pDeviceEventInfo.address(), memAddressSafe(pAllocator), pFence, __functionAddress));
     }
 
     /** Array version of: {@link #vkRegisterDisplayEventEXT RegisterDisplayEventEXT} */
@@ -412,7 +419,8 @@ public class EXTDisplayControl {
             check(pFence, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPJPPPI(device.address(), display, pDisplayEventInfo.address(), memAddressSafe(pAllocator), pFence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPPI(device.address(), display, pDisplayEventInfo.address(), memAddressSafe(pAllocator), pFence, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetSwapchainCounterEXT GetSwapchainCounterEXT} */
@@ -423,7 +431,8 @@ public class EXTDisplayControl {
             check(__functionAddress);
             check(pCounterValue, 1);
         }
-        return callPJPI(device.address(), swapchain, counter, pCounterValue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPI(device.address(), swapchain, counter, pCounterValue, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -82,6 +82,8 @@ public class EXTDisplaySurfaceCounter {
      */
     public static final int VK_SURFACE_COUNTER_VBLANK_EXT = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTDisplaySurfaceCounter.class, "vkGetPhysicalDeviceSurfaceCapabilities2EXT");
+
     protected EXTDisplaySurfaceCounter() {
         throw new UnsupportedOperationException();
     }
@@ -100,7 +102,8 @@ public class EXTDisplaySurfaceCounter {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(physicalDevice.address(), surface, pSurfaceCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPI(physicalDevice.address(), surface, pSurfaceCapabilities, __functionAddress));
     }
 
     /**
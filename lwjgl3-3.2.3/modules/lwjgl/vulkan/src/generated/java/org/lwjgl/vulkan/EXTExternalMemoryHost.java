@@ -84,6 +84,8 @@ public class EXTExternalMemoryHost {
         VK_EXTERNAL_MEMORY_HANDLE_TYPE_HOST_ALLOCATION_BIT_EXT            = 0x80,
         VK_EXTERNAL_MEMORY_HANDLE_TYPE_HOST_MAPPED_FOREIGN_MEMORY_BIT_EXT = 0x100;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTExternalMemoryHost.class, "vkGetMemoryHostPointerPropertiesEXT");
+
     protected EXTExternalMemoryHost() {
         throw new UnsupportedOperationException();
     }
@@ -103,7 +105,8 @@ public class EXTExternalMemoryHost {
             check(__functionAddress);
             check(pHostPointer);
         }
-        return callPPPI(device.address(), handleType, pHostPointer, pMemoryHostPointerProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(device.address(), handleType, pHostPointer, pMemoryHostPointerProperties, __functionAddress));
     }
 
     /**
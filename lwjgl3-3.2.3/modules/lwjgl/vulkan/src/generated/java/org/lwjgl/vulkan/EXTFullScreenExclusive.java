@@ -112,6 +112,8 @@ public class EXTFullScreenExclusive {
         VK_FULL_SCREEN_EXCLUSIVE_DISALLOWED_EXT             = 2,
         VK_FULL_SCREEN_EXCLUSIVE_APPLICATION_CONTROLLED_EXT = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTFullScreenExclusive.class, "vkGetPhysicalDeviceSurfacePresentModes2EXT,vkAcquireFullScreenExclusiveModeEXT,vkReleaseFullScreenExclusiveModeEXT,vkGetDeviceGroupSurfacePresentModes2EXT");
+
     protected EXTFullScreenExclusive() {
         throw new UnsupportedOperationException();
     }
@@ -142,7 +144,8 @@ public class EXTFullScreenExclusive {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(physicalDevice.address(), pSurfaceInfo, pPresentModeCount, pPresentModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(physicalDevice.address(), pSurfaceInfo, pPresentModeCount, pPresentModes, __functionAddress));
     }
 
     /**
@@ -265,7 +268,8 @@ public class EXTFullScreenExclusive {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(device.address(), swapchain, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJI(device.address(), swapchain, __functionAddress));
     }
 
     // --- [ vkReleaseFullScreenExclusiveModeEXT ] ---
@@ -305,7 +309,8 @@ public class EXTFullScreenExclusive {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(device.address(), swapchain, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJI(device.address(), swapchain, __functionAddress));
     }
 
     // --- [ vkGetDeviceGroupSurfacePresentModes2EXT ] ---
@@ -316,7 +321,8 @@ public class EXTFullScreenExclusive {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pSurfaceInfo, pModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(device.address(), pSurfaceInfo, pModes, __functionAddress));
     }
 
     /**
@@ -384,7 +390,8 @@ public class EXTFullScreenExclusive {
             check(pPresentModeCount, 1);
             checkSafe(pPresentModes, pPresentModeCount[0]);
         }
-        return callPPPPI(physicalDevice.address(), pSurfaceInfo.address(), pPresentModeCount, pPresentModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(physicalDevice.address(), pSurfaceInfo.address(), pPresentModeCount, pPresentModes, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDeviceGroupSurfacePresentModes2EXT GetDeviceGroupSurfacePresentModes2EXT} */
@@ -395,7 +402,8 @@ public class EXTFullScreenExclusive {
             check(__functionAddress);
             check(pModes, 1);
         }
-        return callPPPI(device.address(), pSurfaceInfo.address(), pModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(device.address(), pSurfaceInfo.address(), pModes, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -57,6 +57,8 @@ public class EXTHdrMetadata {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_HDR_METADATA_EXT = 1000105000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTHdrMetadata.class, "vkSetHdrMetadataEXT");
+
     protected EXTHdrMetadata() {
         throw new UnsupportedOperationException();
     }
@@ -79,7 +81,9 @@ public class EXTHdrMetadata {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), swapchainCount, pSwapchains, pMetadata, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -126,7 +130,9 @@ public class EXTHdrMetadata {
             check(__functionAddress);
             check(pMetadata, pSwapchains.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pSwapchains.length, pSwapchains, pMetadata.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -61,6 +61,8 @@ public class EXTHeadlessSurface {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_HEADLESS_SURFACE_CREATE_INFO_EXT = 1000256000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTHeadlessSurface.class, "vkCreateHeadlessSurfaceEXT");
+
     protected EXTHeadlessSurface() {
         throw new UnsupportedOperationException();
     }
@@ -80,7 +82,8 @@ public class EXTHeadlessSurface {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress));
     }
 
     /**
@@ -146,7 +149,8 @@ public class EXTHeadlessSurface {
             check(pSurface, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress));
     }
 
 }
\ No newline at end of file
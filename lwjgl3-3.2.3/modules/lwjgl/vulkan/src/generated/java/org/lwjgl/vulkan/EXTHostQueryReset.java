@@ -55,6 +55,8 @@ public class EXTHostQueryReset {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_PHYSICAL_DEVICE_HOST_QUERY_RESET_FEATURES_EXT = 1000261000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTHostQueryReset.class, "vkResetQueryPoolEXT");
+
     protected EXTHostQueryReset() {
         throw new UnsupportedOperationException();
     }
@@ -113,7 +115,9 @@ public class EXTHostQueryReset {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(device.address(), queryPool, firstQuery, queryCount, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
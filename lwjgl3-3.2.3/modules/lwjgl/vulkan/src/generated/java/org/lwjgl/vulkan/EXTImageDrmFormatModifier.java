@@ -169,6 +169,8 @@ public class EXTImageDrmFormatModifier {
         VK_IMAGE_ASPECT_MEMORY_PLANE_2_BIT_EXT = 0x200,
         VK_IMAGE_ASPECT_MEMORY_PLANE_3_BIT_EXT = 0x400;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTImageDrmFormatModifier.class, "vkGetImageDrmFormatModifierPropertiesEXT");
+
     protected EXTImageDrmFormatModifier() {
         throw new UnsupportedOperationException();
     }
@@ -187,7 +189,8 @@ public class EXTImageDrmFormatModifier {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), image, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPI(device.address(), image, pProperties, __functionAddress));
     }
 
     /**
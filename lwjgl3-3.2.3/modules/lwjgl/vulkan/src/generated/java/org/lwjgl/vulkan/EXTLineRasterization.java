@@ -92,6 +92,8 @@ public class EXTLineRasterization {
         VK_LINE_RASTERIZATION_MODE_BRESENHAM_EXT          = 2,
         VK_LINE_RASTERIZATION_MODE_RECTANGULAR_SMOOTH_EXT = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTLineRasterization.class, "vkCmdSetLineStippleEXT");
+
     protected EXTLineRasterization() {
         throw new UnsupportedOperationException();
     }
@@ -157,7 +159,9 @@ public class EXTLineRasterization {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), lineStippleFactor, lineStipplePattern, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
@@ -83,6 +83,8 @@ public class EXTSampleLocations {
     /** Extends {@code VkDynamicState}. */
     public static final int VK_DYNAMIC_STATE_SAMPLE_LOCATIONS_EXT = 1000143000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTSampleLocations.class, "vkCmdSetSampleLocationsEXT,vkGetPhysicalDeviceMultisamplePropertiesEXT");
+
     protected EXTSampleLocations() {
         throw new UnsupportedOperationException();
     }
@@ -108,7 +110,9 @@ public class EXTSampleLocations {
             check(__functionAddress);
             VkSampleLocationsInfoEXT.validate(pSampleLocationsInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pSampleLocationsInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -175,7 +179,9 @@ public class EXTSampleLocations {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), samples, pMultisampleProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
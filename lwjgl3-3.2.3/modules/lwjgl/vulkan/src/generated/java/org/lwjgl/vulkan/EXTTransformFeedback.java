@@ -123,6 +123,8 @@ public class EXTTransformFeedback {
     /** Extends {@code VkPipelineStageFlagBits}. */
     public static final int VK_PIPELINE_STAGE_TRANSFORM_FEEDBACK_BIT_EXT = 0x1000000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTTransformFeedback.class, "vkCmdBindTransformFeedbackBuffersEXT,vkCmdBeginTransformFeedbackEXT,vkCmdEndTransformFeedbackEXT,vkCmdBeginQueryIndexedEXT,vkCmdEndQueryIndexedEXT,vkCmdDrawIndirectByteCountEXT");
+
     protected EXTTransformFeedback() {
         throw new UnsupportedOperationException();
     }
@@ -150,7 +152,9 @@ public class EXTTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(commandBuffer.address(), firstBinding, bindingCount, pBuffers, pOffsets, pSizes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -242,7 +246,9 @@ public class EXTTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), firstCounterBuffer, counterBufferCount, pCounterBuffers, pCounterBufferOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -327,7 +333,9 @@ public class EXTTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), firstCounterBuffer, counterBufferCount, pCounterBuffers, pCounterBufferOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -470,7 +478,9 @@ public class EXTTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), queryPool, query, flags, index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ vkCmdEndQueryIndexedEXT ] ---
@@ -539,7 +549,9 @@ public class EXTTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), queryPool, query, index, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ vkCmdDrawIndirectByteCountEXT ] ---
@@ -646,7 +658,9 @@ public class EXTTransformFeedback {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), instanceCount, firstInstance, counterBuffer, counterBufferOffset, counterOffset, vertexStride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /** Array version of: {@link #vkCmdBindTransformFeedbackBuffersEXT CmdBindTransformFeedbackBuffersEXT} */
@@ -657,7 +671,9 @@ public class EXTTransformFeedback {
             check(pOffsets, pBuffers.length);
             checkSafe(pSizes, pBuffers.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(commandBuffer.address(), firstBinding, pBuffers.length, pBuffers, pOffsets, pSizes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #vkCmdBeginTransformFeedbackEXT CmdBeginTransformFeedbackEXT} */
@@ -667,7 +683,9 @@ public class EXTTransformFeedback {
             check(__functionAddress);
             checkSafe(pCounterBufferOffsets, lengthSafe(pCounterBuffers));
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), firstCounterBuffer, lengthSafe(pCounterBuffers), pCounterBuffers, pCounterBufferOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /** Array version of: {@link #vkCmdEndTransformFeedbackEXT CmdEndTransformFeedbackEXT} */
@@ -677,7 +695,9 @@ public class EXTTransformFeedback {
             check(__functionAddress);
             checkSafe(pCounterBufferOffsets, lengthSafe(pCounterBuffers));
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), firstCounterBuffer, lengthSafe(pCounterBuffers), pCounterBuffers, pCounterBufferOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
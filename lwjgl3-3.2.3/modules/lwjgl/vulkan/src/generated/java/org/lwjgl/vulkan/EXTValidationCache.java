@@ -90,6 +90,8 @@ public class EXTValidationCache {
      */
     public static final int VK_VALIDATION_CACHE_HEADER_VERSION_ONE_EXT = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(EXTValidationCache.class, "vkCreateValidationCacheEXT,vkDestroyValidationCacheEXT,vkMergeValidationCachesEXT,vkGetValidationCacheDataEXT");
+
     protected EXTValidationCache() {
         throw new UnsupportedOperationException();
     }
@@ -113,7 +115,8 @@ public class EXTValidationCache {
             VkValidationCacheCreateInfoEXT.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pValidationCache, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pValidationCache, __functionAddress));
     }
 
     /**
@@ -192,7 +195,9 @@ public class EXTValidationCache {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), validationCache, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -254,7 +259,8 @@ public class EXTValidationCache {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), dstCache, srcCacheCount, pSrcCaches, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPI(device.address(), dstCache, srcCacheCount, pSrcCaches, __functionAddress));
     }
 
     /**
@@ -336,7 +342,8 @@ public class EXTValidationCache {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), validationCache, pDataSize, pData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPPI(device.address(), validationCache, pDataSize, pData, __functionAddress));
     }
 
     /**
@@ -429,7 +436,8 @@ public class EXTValidationCache {
             VkValidationCacheCreateInfoEXT.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pValidationCache, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pValidationCache, __functionAddress));
     }
 
     /** Array version of: {@link #vkMergeValidationCachesEXT MergeValidationCachesEXT} */
@@ -439,7 +447,8 @@ public class EXTValidationCache {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), dstCache, pSrcCaches.length, pSrcCaches, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPI(device.address(), dstCache, pSrcCaches.length, pSrcCaches, __functionAddress));
     }
 
 }
\ No newline at end of file
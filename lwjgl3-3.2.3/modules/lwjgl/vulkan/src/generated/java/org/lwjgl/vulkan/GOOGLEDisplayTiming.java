@@ -69,6 +69,8 @@ public class GOOGLEDisplayTiming {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_PRESENT_TIMES_INFO_GOOGLE = 1000092000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(GOOGLEDisplayTiming.class, "vkGetRefreshCycleDurationGOOGLE,vkGetPastPresentationTimingGOOGLE");
+
     protected GOOGLEDisplayTiming() {
         throw new UnsupportedOperationException();
     }
@@ -88,7 +90,8 @@ public class GOOGLEDisplayTiming {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), swapchain, pDisplayTimingProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPI(device.address(), swapchain, pDisplayTimingProperties, __functionAddress));
     }
 
     /**
@@ -158,7 +161,8 @@ public class GOOGLEDisplayTiming {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), swapchain, pPresentationTimingCount, pPresentationTimings, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPPI(device.address(), swapchain, pPresentationTimingCount, pPresentationTimings, __functionAddress));
     }
 
     /**
@@ -240,7 +244,8 @@ public class GOOGLEDisplayTiming {
             check(pPresentationTimingCount, 1);
             checkSafe(pPresentationTimings, pPresentationTimingCount[0]);
         }
-        return callPJPPI(device.address(), swapchain, pPresentationTimingCount, memAddressSafe(pPresentationTimings), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPPI(device.address(), swapchain, pPresentationTimingCount, memAddressSafe(pPresentationTimings), __functionAddress));
     }
 
 }
\ No newline at end of file
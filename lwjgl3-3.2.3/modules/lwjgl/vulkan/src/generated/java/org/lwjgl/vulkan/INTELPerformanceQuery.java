@@ -302,6 +302,8 @@ public class INTELPerformanceQuery {
         VK_PERFORMANCE_VALUE_TYPE_BOOL_INTEL   = 3,
         VK_PERFORMANCE_VALUE_TYPE_STRING_INTEL = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(INTELPerformanceQuery.class, "vkInitializePerformanceApiINTEL,vkUninitializePerformanceApiINTEL,vkCmdSetPerformanceMarkerINTEL,vkCmdSetPerformanceStreamMarkerINTEL,vkCmdSetPerformanceOverrideINTEL,vkAcquirePerformanceConfigurationINTEL,vkReleasePerformanceConfigurationINTEL,vkQueueSetPerformanceConfigurationINTEL,vkGetPerformanceParameterINTEL");
+
     protected INTELPerformanceQuery() {
         throw new UnsupportedOperationException();
     }
@@ -328,7 +330,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pInitializeInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pInitializeInfo, __functionAddress));
     }
 
     /**
@@ -402,7 +405,9 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(device.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ vkCmdSetPerformanceMarkerINTEL ] ---
@@ -413,7 +418,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(commandBuffer.address(), pMarkerInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(commandBuffer.address(), pMarkerInfo, __functionAddress));
     }
 
     /**
@@ -481,7 +487,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(commandBuffer.address(), pMarkerInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(commandBuffer.address(), pMarkerInfo, __functionAddress));
     }
 
     /**
@@ -549,7 +556,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(commandBuffer.address(), pOverrideInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(commandBuffer.address(), pOverrideInfo, __functionAddress));
     }
 
     /**
@@ -626,7 +634,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pAcquireInfo, pConfiguration, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPI(device.address(), pAcquireInfo, pConfiguration, __functionAddress));
     }
 
     /**
@@ -731,7 +740,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(device.address(), configuration, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPJI(device.address(), configuration, __functionAddress));
     }
 
     // --- [ vkQueueSetPerformanceConfigurationINTEL ] ---
@@ -786,7 +796,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(queue.address(), configuration, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJI(queue.address(), configuration, __functionAddress));
     }
 
     // --- [ vkGetPerformanceParameterINTEL ] ---
@@ -797,7 +808,8 @@ public class INTELPerformanceQuery {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), parameter, pValue, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPI(device.address(), parameter, pValue, __functionAddress));
     }
 
     /**
@@ -856,7 +868,8 @@ public class INTELPerformanceQuery {
             check(__functionAddress);
             check(pConfiguration, 1);
         }
-        return callPPPI(device.address(), pAcquireInfo.address(), pConfiguration, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPPI(device.address(), pAcquireInfo.address(), pConfiguration, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -80,6 +80,8 @@ public class KHRBindMemory2 {
     /** Extends {@code VkImageCreateFlagBits}. */
     public static final int VK_IMAGE_CREATE_ALIAS_BIT_KHR = 0x400;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRBindMemory2.class, "vkBindBufferMemory2KHR,vkBindImageMemory2KHR");
+
     protected KHRBindMemory2() {
         throw new UnsupportedOperationException();
     }
@@ -103,7 +105,8 @@ public class KHRBindMemory2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress));
     }
 
     /**
@@ -129,7 +132,8 @@ public class KHRBindMemory2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress));
     }
 
     /**
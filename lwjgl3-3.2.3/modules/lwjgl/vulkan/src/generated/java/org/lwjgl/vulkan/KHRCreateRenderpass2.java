@@ -89,6 +89,8 @@ public class KHRCreateRenderpass2 {
         VK_STRUCTURE_TYPE_SUBPASS_BEGIN_INFO_KHR        = 1000109005,
         VK_STRUCTURE_TYPE_SUBPASS_END_INFO_KHR          = 1000109006;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRCreateRenderpass2.class, "vkCreateRenderPass2KHR,vkCmdBeginRenderPass2KHR,vkCmdNextSubpass2KHR,vkCmdEndRenderPass2KHR");
+
     protected KHRCreateRenderpass2() {
         throw new UnsupportedOperationException();
     }
@@ -112,7 +114,8 @@ public class KHRCreateRenderpass2 {
             VkRenderPassCreateInfo2KHR.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pRenderPass, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pRenderPass, __functionAddress));
     }
 
     /**
@@ -182,7 +185,9 @@ public class KHRCreateRenderpass2 {
             check(__functionAddress);
             VkRenderPassBeginInfo.validate(pRenderPassBegin);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), pRenderPassBegin, pSubpassBeginInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -262,7 +267,9 @@ public class KHRCreateRenderpass2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), pSubpassBeginInfo, pSubpassEndInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -335,7 +342,9 @@ public class KHRCreateRenderpass2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pSubpassEndInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -407,7 +416,8 @@ public class KHRCreateRenderpass2 {
             VkRenderPassCreateInfo2KHR.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pRenderPass, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pRenderPass, __functionAddress));
     }
 
 }
\ No newline at end of file
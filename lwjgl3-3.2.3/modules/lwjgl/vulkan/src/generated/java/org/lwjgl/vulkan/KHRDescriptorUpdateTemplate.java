@@ -84,6 +84,8 @@ public class KHRDescriptorUpdateTemplate {
     /** Extends {@code VkDebugReportObjectTypeEXT}. */
     public static final int VK_DEBUG_REPORT_OBJECT_TYPE_DESCRIPTOR_UPDATE_TEMPLATE_KHR_EXT = 1000085000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDescriptorUpdateTemplate.class, "vkCreateDescriptorUpdateTemplateKHR,vkDestroyDescriptorUpdateTemplateKHR,vkUpdateDescriptorSetWithTemplateKHR,vkCmdPushDescriptorSetWithTemplateKHR");
+
     protected KHRDescriptorUpdateTemplate() {
         throw new UnsupportedOperationException();
     }
@@ -107,7 +109,8 @@ public class KHRDescriptorUpdateTemplate {
             VkDescriptorUpdateTemplateCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pDescriptorUpdateTemplate, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pDescriptorUpdateTemplate, __functionAddress));
     }
 
     /**
@@ -135,7 +138,9 @@ public class KHRDescriptorUpdateTemplate {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), descriptorUpdateTemplate, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -165,7 +170,9 @@ public class KHRDescriptorUpdateTemplate {
             check(__functionAddress);
             check(pData);
         }
+        long __start = FunctionProfiler.start();
         callPJJPV(device.address(), descriptorSet, descriptorUpdateTemplate, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ vkCmdPushDescriptorSetWithTemplateKHR ] ---
@@ -276,7 +283,9 @@ public class KHRDescriptorUpdateTemplate {
             check(__functionAddress);
             check(pData);
         }
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), descriptorUpdateTemplate, layout, set, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #vkCreateDescriptorUpdateTemplateKHR CreateDescriptorUpdateTemplateKHR} */
@@ -289,7 +298,8 @@ public class KHRDescriptorUpdateTemplate {
             VkDescriptorUpdateTemplateCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pDescriptorUpdateTemplate, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pDescriptorUpdateTemplate, __functionAddress));
     }
 
 }
\ No newline at end of file
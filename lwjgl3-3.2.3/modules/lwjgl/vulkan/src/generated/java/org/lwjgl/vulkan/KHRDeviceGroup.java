@@ -197,6 +197,8 @@ public class KHRDeviceGroup {
     /** Extends {@code VkSwapchainCreateFlagBitsKHR}. */
     public static final int VK_SWAPCHAIN_CREATE_SPLIT_INSTANCE_BIND_REGIONS_BIT_KHR = 0x1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDeviceGroup.class, "vkGetDeviceGroupPeerMemoryFeaturesKHR,vkCmdSetDeviceMaskKHR,vkCmdDispatchBaseKHR,vkGetDeviceGroupPresentCapabilitiesKHR,vkGetDeviceGroupSurfacePresentModesKHR,vkGetPhysicalDevicePresentRectanglesKHR,vkAcquireNextImage2KHR");
+
     protected KHRDeviceGroup() {
         throw new UnsupportedOperationException();
     }
@@ -226,7 +228,9 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(device.address(), heapIndex, localDeviceIndex, remoteDeviceIndex, pPeerMemoryFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -258,7 +262,9 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), deviceMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ vkCmdDispatchBaseKHR ] ---
@@ -279,7 +285,9 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), baseGroupX, baseGroupY, baseGroupZ, groupCountX, groupCountY, groupCountZ, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ vkGetDeviceGroupPresentCapabilitiesKHR ] ---
@@ -290,7 +298,8 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pDeviceGroupPresentCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(device.address(), pDeviceGroupPresentCapabilities, __functionAddress));
     }
 
     /**
@@ -348,7 +357,8 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), surface, pModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPI(device.address(), surface, pModes, __functionAddress));
     }
 
     /**
@@ -424,7 +434,8 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(physicalDevice.address(), surface, pRectCount, pRects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPJPPI(physicalDevice.address(), surface, pRectCount, pRects, __functionAddress));
     }
 
     /**
@@ -508,7 +519,8 @@ public class KHRDeviceGroup {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pAcquireInfo, pImageIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(device.address(), pAcquireInfo, pImageIndex, __functionAddress));
     }
 
     /**
@@ -582,7 +594,9 @@ public class KHRDeviceGroup {
             check(__functionAddress);
             check(pPeerMemoryFeatures, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(device.address(), heapIndex, localDeviceIndex, remoteDeviceIndex, pPeerMemoryFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /** Array version of: {@link #vkGetDeviceGroupSurfacePresentModesKHR GetDeviceGroupSurfacePresentModesKHR} */
@@ -593,7 +607,8 @@ public class KHRDeviceGroup {
             check(__functionAddress);
             check(pModes, 1);
         }
-        return callPJPI(device.address(), surface, pModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPI(device.address(), surface, pModes, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDevicePresentRectanglesKHR GetPhysicalDevicePresentRectanglesKHR} */
@@ -605,7 +620,8 @@ public class KHRDeviceGroup {
             check(pRectCount, 1);
             checkSafe(pRects, pRectCount[0]);
         }
-        return callPJPPI(physicalDevice.address(), surface, pRectCount, memAddressSafe(pRects), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPJPPI(physicalDevice.address(), surface, pRectCount, memAddressSafe(pRects), __functionAddress));
     }
 
     /** Array version of: {@link #vkAcquireNextImage2KHR AcquireNextImage2KHR} */
@@ -616,7 +632,8 @@ public class KHRDeviceGroup {
             check(__functionAddress);
             check(pImageIndex, 1);
         }
-        return callPPPI(device.address(), pAcquireInfo.address(), pImageIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(device.address(), pAcquireInfo.address(), pImageIndex, __functionAddress));
     }
 
 }
\ No newline at end of file
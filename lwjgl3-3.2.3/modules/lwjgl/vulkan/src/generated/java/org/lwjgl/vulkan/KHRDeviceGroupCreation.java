@@ -116,6 +116,8 @@ public class KHRDeviceGroupCreation {
     /** Extends {@code VkMemoryHeapFlagBits}. */
     public static final int VK_MEMORY_HEAP_MULTI_INSTANCE_BIT_KHR = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDeviceGroupCreation.class, "vkEnumeratePhysicalDeviceGroupsKHR");
+
     protected KHRDeviceGroupCreation() {
         throw new UnsupportedOperationException();
     }
@@ -138,7 +140,8 @@ public class KHRDeviceGroupCreation {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(instance.address(), pPhysicalDeviceGroupCount, pPhysicalDeviceGroupProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(instance.address(), pPhysicalDeviceGroupCount, pPhysicalDeviceGroupProperties, __functionAddress));
     }
 
     /**
@@ -166,7 +169,8 @@ public class KHRDeviceGroupCreation {
             check(pPhysicalDeviceGroupCount, 1);
             checkSafe(pPhysicalDeviceGroupProperties, pPhysicalDeviceGroupCount[0]);
         }
-        return callPPPI(instance.address(), pPhysicalDeviceGroupCount, memAddressSafe(pPhysicalDeviceGroupProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(instance.address(), pPhysicalDeviceGroupCount, memAddressSafe(pPhysicalDeviceGroupProperties), __functionAddress));
     }
 
 }
\ No newline at end of file
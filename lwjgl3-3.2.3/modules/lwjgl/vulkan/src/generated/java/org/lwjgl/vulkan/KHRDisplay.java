@@ -115,6 +115,8 @@ public class KHRDisplay {
         VK_DISPLAY_PLANE_ALPHA_PER_PIXEL_BIT_KHR               = 0x4,
         VK_DISPLAY_PLANE_ALPHA_PER_PIXEL_PREMULTIPLIED_BIT_KHR = 0x8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDisplay.class, "vkGetPhysicalDeviceDisplayPropertiesKHR,vkGetPhysicalDeviceDisplayPlanePropertiesKHR,vkGetDisplayPlaneSupportedDisplaysKHR,vkGetDisplayModePropertiesKHR,vkCreateDisplayModeKHR,vkGetDisplayPlaneCapabilitiesKHR,vkCreateDisplayPlaneSurfaceKHR");
+
     protected KHRDisplay() {
         throw new UnsupportedOperationException();
     }
@@ -143,7 +145,8 @@ public class KHRDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -215,7 +218,8 @@ public class KHRDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -287,7 +291,8 @@ public class KHRDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), planeIndex, pDisplayCount, pDisplays, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(physicalDevice.address(), planeIndex, pDisplayCount, pDisplays, __functionAddress));
     }
 
     /**
@@ -363,7 +368,8 @@ public class KHRDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(physicalDevice.address(), display, pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPPI(physicalDevice.address(), display, pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -435,7 +441,8 @@ public class KHRDisplay {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPJPPPI(physicalDevice.address(), display, pCreateInfo, pAllocator, pMode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPI(physicalDevice.address(), display, pCreateInfo, pAllocator, pMode, __functionAddress));
     }
 
     /**
@@ -510,7 +517,8 @@ public class KHRDisplay {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(physicalDevice.address(), mode, planeIndex, pCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPJPI(physicalDevice.address(), mode, planeIndex, pCapabilities, __functionAddress));
     }
 
     /**
@@ -578,7 +586,8 @@ public class KHRDisplay {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress));
     }
 
     /**
@@ -644,7 +653,8 @@ public class KHRDisplay {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceDisplayPlanePropertiesKHR GetPhysicalDeviceDisplayPlanePropertiesKHR} */
@@ -656,7 +666,8 @@ public class KHRDisplay {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDisplayPlaneSupportedDisplaysKHR GetDisplayPlaneSupportedDisplaysKHR} */
@@ -668,7 +679,8 @@ public class KHRDisplay {
             check(pDisplayCount, 1);
             checkSafe(pDisplays, pDisplayCount[0]);
         }
-        return callPPPI(physicalDevice.address(), planeIndex, pDisplayCount, pDisplays, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(physicalDevice.address(), planeIndex, pDisplayCount, pDisplays, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDisplayModePropertiesKHR GetDisplayModePropertiesKHR} */
@@ -680,7 +692,8 @@ public class KHRDisplay {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPJPPI(physicalDevice.address(), display, pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPPI(physicalDevice.address(), display, pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateDisplayModeKHR CreateDisplayModeKHR} */
@@ -692,7 +705,8 @@ public class KHRDisplay {
             check(pMode, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPJPPPI(physicalDevice.address(), display, pCreateInfo.address(), memAddressSafe(pAllocator), pMode, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPPI(physicalDevice.address(), display, pCreateInfo.address(), memAddressSafe(pAllocator), pMode, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateDisplayPlaneSurfaceKHR CreateDisplayPlaneSurfaceKHR} */
@@ -704,7 +718,8 @@ public class KHRDisplay {
             check(pSurface, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -70,6 +70,8 @@ public class KHRDisplaySwapchain {
     /** Extends {@code VkResult}. */
     public static final int VK_ERROR_INCOMPATIBLE_DISPLAY_KHR = -1000003001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDisplaySwapchain.class, "vkCreateSharedSwapchainsKHR");
+
     protected KHRDisplaySwapchain() {
         throw new UnsupportedOperationException();
     }
@@ -94,7 +96,8 @@ public class KHRDisplaySwapchain {
             VkSwapchainCreateInfoKHR.validate(pCreateInfos, swapchainCount);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), swapchainCount, pCreateInfos, pAllocator, pSwapchains, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), swapchainCount, pCreateInfos, pAllocator, pSwapchains, __functionAddress));
     }
 
     /**
@@ -179,7 +182,8 @@ public class KHRDisplaySwapchain {
             VkSwapchainCreateInfoKHR.validate(pCreateInfos.address(), pCreateInfos.remaining());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pSwapchains, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pSwapchains, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -55,6 +55,8 @@ public class KHRDrawIndirectCount {
     /** The extension name. */
     public static final String VK_KHR_DRAW_INDIRECT_COUNT_EXTENSION_NAME = "VK_KHR_draw_indirect_count";
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRDrawIndirectCount.class, "vkCmdDrawIndirectCountKHR,vkCmdDrawIndexedIndirectCountKHR");
+
     protected KHRDrawIndirectCount() {
         throw new UnsupportedOperationException();
     }
@@ -182,7 +184,9 @@ public class KHRDrawIndirectCount {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJJJV(commandBuffer.address(), buffer, offset, countBuffer, countBufferOffset, maxDrawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ vkCmdDrawIndexedIndirectCountKHR ] ---
@@ -301,7 +305,9 @@ public class KHRDrawIndirectCount {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJJJV(commandBuffer.address(), buffer, offset, countBuffer, countBufferOffset, maxDrawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
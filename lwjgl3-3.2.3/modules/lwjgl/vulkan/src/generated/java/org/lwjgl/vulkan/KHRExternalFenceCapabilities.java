@@ -114,6 +114,8 @@ public class KHRExternalFenceCapabilities {
         VK_EXTERNAL_FENCE_FEATURE_EXPORTABLE_BIT_KHR = 0x1,
         VK_EXTERNAL_FENCE_FEATURE_IMPORTABLE_BIT_KHR = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalFenceCapabilities.class, "vkGetPhysicalDeviceExternalFencePropertiesKHR");
+
     protected KHRExternalFenceCapabilities() {
         throw new UnsupportedOperationException();
     }
@@ -132,7 +134,9 @@ public class KHRExternalFenceCapabilities {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pExternalFenceInfo, pExternalFenceProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -70,6 +70,8 @@ public class KHRExternalFenceFd {
         VK_STRUCTURE_TYPE_IMPORT_FENCE_FD_INFO_KHR = 1000115000,
         VK_STRUCTURE_TYPE_FENCE_GET_FD_INFO_KHR    = 1000115001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalFenceFd.class, "vkImportFenceFdKHR,vkGetFenceFdKHR");
+
     protected KHRExternalFenceFd() {
         throw new UnsupportedOperationException();
     }
@@ -89,7 +91,8 @@ public class KHRExternalFenceFd {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pImportFenceFdInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pImportFenceFdInfo, __functionAddress));
     }
 
     /**
@@ -157,7 +160,8 @@ public class KHRExternalFenceFd {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pGetFdInfo, pFd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), pGetFdInfo, pFd, __functionAddress));
     }
 
     /**
@@ -234,7 +238,8 @@ public class KHRExternalFenceFd {
             check(__functionAddress);
             check(pFd, 1);
         }
-        return callPPPI(device.address(), pGetFdInfo.address(), pFd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), pGetFdInfo.address(), pFd, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -72,6 +72,8 @@ public class KHRExternalFenceWin32 {
         VK_STRUCTURE_TYPE_EXPORT_FENCE_WIN32_HANDLE_INFO_KHR = 1000114001,
         VK_STRUCTURE_TYPE_FENCE_GET_WIN32_HANDLE_INFO_KHR    = 1000114002;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalFenceWin32.class, "vkImportFenceWin32HandleKHR,vkGetFenceWin32HandleKHR");
+
     protected KHRExternalFenceWin32() {
         throw new UnsupportedOperationException();
     }
@@ -92,7 +94,8 @@ public class KHRExternalFenceWin32 {
             check(__functionAddress);
             VkImportFenceWin32HandleInfoKHR.validate(pImportFenceWin32HandleInfo);
         }
-        return callPPI(device.address(), pImportFenceWin32HandleInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pImportFenceWin32HandleInfo, __functionAddress));
     }
 
     /**
@@ -154,7 +157,8 @@ public class KHRExternalFenceWin32 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pGetWin32HandleInfo, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), pGetWin32HandleInfo, pHandle, __functionAddress));
     }
 
     /**
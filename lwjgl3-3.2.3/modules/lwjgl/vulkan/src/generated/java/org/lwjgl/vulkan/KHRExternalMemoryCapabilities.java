@@ -128,6 +128,8 @@ public class KHRExternalMemoryCapabilities {
         VK_EXTERNAL_MEMORY_FEATURE_EXPORTABLE_BIT_KHR     = 0x2,
         VK_EXTERNAL_MEMORY_FEATURE_IMPORTABLE_BIT_KHR     = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalMemoryCapabilities.class, "vkGetPhysicalDeviceExternalBufferPropertiesKHR");
+
     protected KHRExternalMemoryCapabilities() {
         throw new UnsupportedOperationException();
     }
@@ -146,7 +148,9 @@ public class KHRExternalMemoryCapabilities {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pExternalBufferInfo, pExternalBufferProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
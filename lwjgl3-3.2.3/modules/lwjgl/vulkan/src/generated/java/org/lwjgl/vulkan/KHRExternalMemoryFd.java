@@ -69,6 +69,8 @@ public class KHRExternalMemoryFd {
         VK_STRUCTURE_TYPE_MEMORY_FD_PROPERTIES_KHR  = 1000074001,
         VK_STRUCTURE_TYPE_MEMORY_GET_FD_INFO_KHR    = 1000074002;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalMemoryFd.class, "vkGetMemoryFdKHR,vkGetMemoryFdPropertiesKHR");
+
     protected KHRExternalMemoryFd() {
         throw new UnsupportedOperationException();
     }
@@ -88,7 +90,8 @@ public class KHRExternalMemoryFd {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pGetFdInfo, pFd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(device.address(), pGetFdInfo, pFd, __functionAddress));
     }
 
     /**
@@ -154,7 +157,8 @@ public class KHRExternalMemoryFd {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), handleType, fd, pMemoryFdProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(device.address(), handleType, fd, pMemoryFdProperties, __functionAddress));
     }
 
     /**
@@ -221,7 +225,8 @@ public class KHRExternalMemoryFd {
             check(__functionAddress);
             check(pFd, 1);
         }
-        return callPPPI(device.address(), pGetFdInfo.address(), pFd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(device.address(), pGetFdInfo.address(), pFd, __functionAddress));
     }
 
 }
\ No newline at end of file
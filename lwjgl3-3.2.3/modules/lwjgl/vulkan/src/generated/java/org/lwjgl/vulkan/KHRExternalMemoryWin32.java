@@ -72,6 +72,8 @@ public class KHRExternalMemoryWin32 {
         VK_STRUCTURE_TYPE_MEMORY_WIN32_HANDLE_PROPERTIES_KHR  = 1000073002,
         VK_STRUCTURE_TYPE_MEMORY_GET_WIN32_HANDLE_INFO_KHR    = 1000073003;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalMemoryWin32.class, "vkGetMemoryWin32HandleKHR,vkGetMemoryWin32HandlePropertiesKHR");
+
     protected KHRExternalMemoryWin32() {
         throw new UnsupportedOperationException();
     }
@@ -91,7 +93,8 @@ public class KHRExternalMemoryWin32 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pGetWin32HandleInfo, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(device.address(), pGetWin32HandleInfo, pHandle, __functionAddress));
     }
 
     /**
@@ -158,7 +161,8 @@ public class KHRExternalMemoryWin32 {
             check(__functionAddress);
             check(handle);
         }
-        return callPPPI(device.address(), handleType, handle, pMemoryWin32HandleProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), handleType, handle, pMemoryWin32HandleProperties, __functionAddress));
     }
 
     /**
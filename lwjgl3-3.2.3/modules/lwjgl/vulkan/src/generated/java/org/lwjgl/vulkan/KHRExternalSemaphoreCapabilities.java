@@ -114,6 +114,8 @@ public class KHRExternalSemaphoreCapabilities {
         VK_EXTERNAL_SEMAPHORE_FEATURE_EXPORTABLE_BIT_KHR = 0x1,
         VK_EXTERNAL_SEMAPHORE_FEATURE_IMPORTABLE_BIT_KHR = 0x2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalSemaphoreCapabilities.class, "vkGetPhysicalDeviceExternalSemaphorePropertiesKHR");
+
     protected KHRExternalSemaphoreCapabilities() {
         throw new UnsupportedOperationException();
     }
@@ -132,7 +134,9 @@ public class KHRExternalSemaphoreCapabilities {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pExternalSemaphoreInfo, pExternalSemaphoreProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -69,6 +69,8 @@ public class KHRExternalSemaphoreFd {
         VK_STRUCTURE_TYPE_IMPORT_SEMAPHORE_FD_INFO_KHR = 1000079000,
         VK_STRUCTURE_TYPE_SEMAPHORE_GET_FD_INFO_KHR    = 1000079001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalSemaphoreFd.class, "vkImportSemaphoreFdKHR,vkGetSemaphoreFdKHR");
+
     protected KHRExternalSemaphoreFd() {
         throw new UnsupportedOperationException();
     }
@@ -88,7 +90,8 @@ public class KHRExternalSemaphoreFd {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pImportSemaphoreFdInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pImportSemaphoreFdInfo, __functionAddress));
     }
 
     /**
@@ -156,7 +159,8 @@ public class KHRExternalSemaphoreFd {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pGetFdInfo, pFd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), pGetFdInfo, pFd, __functionAddress));
     }
 
     /**
@@ -231,7 +235,8 @@ public class KHRExternalSemaphoreFd {
             check(__functionAddress);
             check(pFd, 1);
         }
-        return callPPPI(device.address(), pGetFdInfo.address(), pFd, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), pGetFdInfo.address(), pFd, __functionAddress));
     }
 
 }
\ No newline at end of file
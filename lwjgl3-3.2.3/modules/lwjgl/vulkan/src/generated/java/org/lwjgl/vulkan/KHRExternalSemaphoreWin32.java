@@ -72,6 +72,8 @@ public class KHRExternalSemaphoreWin32 {
         VK_STRUCTURE_TYPE_D3D12_FENCE_SUBMIT_INFO_KHR            = 1000078002,
         VK_STRUCTURE_TYPE_SEMAPHORE_GET_WIN32_HANDLE_INFO_KHR    = 1000078003;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRExternalSemaphoreWin32.class, "vkImportSemaphoreWin32HandleKHR,vkGetSemaphoreWin32HandleKHR");
+
     protected KHRExternalSemaphoreWin32() {
         throw new UnsupportedOperationException();
     }
@@ -92,7 +94,8 @@ public class KHRExternalSemaphoreWin32 {
             check(__functionAddress);
             VkImportSemaphoreWin32HandleInfoKHR.validate(pImportSemaphoreWin32HandleInfo);
         }
-        return callPPI(device.address(), pImportSemaphoreWin32HandleInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pImportSemaphoreWin32HandleInfo, __functionAddress));
     }
 
     /**
@@ -154,7 +157,8 @@ public class KHRExternalSemaphoreWin32 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pGetWin32HandleInfo, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(device.address(), pGetWin32HandleInfo, pHandle, __functionAddress));
     }
 
     /**
@@ -75,6 +75,8 @@ public class KHRGetDisplayProperties2 {
         VK_STRUCTURE_TYPE_DISPLAY_PLANE_INFO_2_KHR         = 1000121003,
         VK_STRUCTURE_TYPE_DISPLAY_PLANE_CAPABILITIES_2_KHR = 1000121004;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRGetDisplayProperties2.class, "vkGetPhysicalDeviceDisplayProperties2KHR,vkGetPhysicalDeviceDisplayPlaneProperties2KHR,vkGetDisplayModeProperties2KHR,vkGetDisplayPlaneCapabilities2KHR");
+
     protected KHRGetDisplayProperties2() {
         throw new UnsupportedOperationException();
     }
@@ -100,7 +102,8 @@ public class KHRGetDisplayProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -172,7 +175,8 @@ public class KHRGetDisplayProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -244,7 +248,8 @@ public class KHRGetDisplayProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(physicalDevice.address(), display, pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPI(physicalDevice.address(), display, pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -315,7 +320,8 @@ public class KHRGetDisplayProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pDisplayPlaneInfo, pCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(physicalDevice.address(), pDisplayPlaneInfo, pCapabilities, __functionAddress));
     }
 
     /**
@@ -379,7 +385,8 @@ public class KHRGetDisplayProperties2 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceDisplayPlaneProperties2KHR GetPhysicalDeviceDisplayPlaneProperties2KHR} */
@@ -391,7 +398,8 @@ public class KHRGetDisplayProperties2 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDisplayModeProperties2KHR GetDisplayModeProperties2KHR} */
@@ -403,7 +411,8 @@ public class KHRGetDisplayProperties2 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPJPPI(physicalDevice.address(), display, pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPI(physicalDevice.address(), display, pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
 }
\ No newline at end of file
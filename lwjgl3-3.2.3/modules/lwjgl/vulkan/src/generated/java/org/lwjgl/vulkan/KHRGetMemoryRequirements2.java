@@ -87,6 +87,8 @@ public class KHRGetMemoryRequirements2 {
         VK_STRUCTURE_TYPE_MEMORY_REQUIREMENTS_2_KHR                   = 1000146003,
         VK_STRUCTURE_TYPE_SPARSE_IMAGE_MEMORY_REQUIREMENTS_2_KHR      = 1000146004;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRGetMemoryRequirements2.class, "vkGetImageMemoryRequirements2KHR,vkGetBufferMemoryRequirements2KHR,vkGetImageSparseMemoryRequirements2KHR");
+
     protected KHRGetMemoryRequirements2() {
         throw new UnsupportedOperationException();
     }
@@ -107,7 +109,9 @@ public class KHRGetMemoryRequirements2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pInfo, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -129,7 +133,9 @@ public class KHRGetMemoryRequirements2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pInfo, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -155,7 +161,9 @@ public class KHRGetMemoryRequirements2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(device.address(), pInfo, pSparseMemoryRequirementCount, pSparseMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -182,7 +190,9 @@ public class KHRGetMemoryRequirements2 {
             check(pSparseMemoryRequirementCount, 1);
             checkSafe(pSparseMemoryRequirements, pSparseMemoryRequirementCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(device.address(), pInfo.address(), pSparseMemoryRequirementCount, memAddressSafe(pSparseMemoryRequirements), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
@@ -144,6 +144,8 @@ public class KHRGetPhysicalDeviceProperties2 {
         VK_STRUCTURE_TYPE_SPARSE_IMAGE_FORMAT_PROPERTIES_2_KHR           = 1000059007,
         VK_STRUCTURE_TYPE_PHYSICAL_DEVICE_SPARSE_IMAGE_FORMAT_INFO_2_KHR = 1000059008;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRGetPhysicalDeviceProperties2.class, "vkGetPhysicalDeviceFeatures2KHR,vkGetPhysicalDeviceProperties2KHR,vkGetPhysicalDeviceFormatProperties2KHR,vkGetPhysicalDeviceImageFormatProperties2KHR,vkGetPhysicalDeviceQueueFamilyProperties2KHR,vkGetPhysicalDeviceMemoryProperties2KHR,vkGetPhysicalDeviceSparseImageFormatProperties2KHR");
+
     protected KHRGetPhysicalDeviceProperties2() {
         throw new UnsupportedOperationException();
     }
@@ -168,7 +170,9 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -189,7 +193,9 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -210,7 +216,9 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), format, pFormatProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -232,7 +240,8 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pImageFormatInfo, pImageFormatProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPPI(physicalDevice.address(), pImageFormatInfo, pImageFormatProperties, __functionAddress));
     }
 
     /**
@@ -259,7 +268,9 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pQueueFamilyPropertyCount, pQueueFamilyProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -285,7 +296,9 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pMemoryProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -310,7 +323,9 @@ public class KHRGetPhysicalDeviceProperties2 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(physicalDevice.address(), pFormatInfo, pPropertyCount, pProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -337,7 +352,9 @@ public class KHRGetPhysicalDeviceProperties2 {
             check(pQueueFamilyPropertyCount, 1);
             checkSafe(pQueueFamilyProperties, pQueueFamilyPropertyCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pQueueFamilyPropertyCount, memAddressSafe(pQueueFamilyProperties), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceSparseImageFormatProperties2KHR GetPhysicalDeviceSparseImageFormatProperties2KHR} */
@@ -348,7 +365,9 @@ public class KHRGetPhysicalDeviceProperties2 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(physicalDevice.address(), pFormatInfo.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
 }
\ No newline at end of file
@@ -72,6 +72,8 @@ public class KHRGetSurfaceCapabilities2 {
         VK_STRUCTURE_TYPE_SURFACE_CAPABILITIES_2_KHR         = 1000119001,
         VK_STRUCTURE_TYPE_SURFACE_FORMAT_2_KHR               = 1000119002;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRGetSurfaceCapabilities2.class, "vkGetPhysicalDeviceSurfaceCapabilities2KHR,vkGetPhysicalDeviceSurfaceFormats2KHR");
+
     protected KHRGetSurfaceCapabilities2() {
         throw new UnsupportedOperationException();
     }
@@ -91,7 +93,8 @@ public class KHRGetSurfaceCapabilities2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pSurfaceInfo, pSurfaceCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pSurfaceInfo, pSurfaceCapabilities, __functionAddress));
     }
 
     /**
@@ -165,7 +168,8 @@ public class KHRGetSurfaceCapabilities2 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(physicalDevice.address(), pSurfaceInfo, pSurfaceFormatCount, pSurfaceFormats, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(physicalDevice.address(), pSurfaceInfo, pSurfaceFormatCount, pSurfaceFormats, __functionAddress));
     }
 
     /**
@@ -244,7 +248,8 @@ public class KHRGetSurfaceCapabilities2 {
             check(pSurfaceFormatCount, 1);
             checkSafe(pSurfaceFormats, pSurfaceFormatCount[0]);
         }
-        return callPPPPI(physicalDevice.address(), pSurfaceInfo.address(), pSurfaceFormatCount, memAddressSafe(pSurfaceFormats), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(physicalDevice.address(), pSurfaceInfo.address(), pSurfaceFormatCount, memAddressSafe(pSurfaceFormats), __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -104,6 +104,8 @@ public class KHRMaintenance1 {
     /** Extends {@code VkImageCreateFlagBits}. */
     public static final int VK_IMAGE_CREATE_2D_ARRAY_COMPATIBLE_BIT_KHR = 0x20;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRMaintenance1.class, "vkTrimCommandPoolKHR");
+
     protected KHRMaintenance1() {
         throw new UnsupportedOperationException();
     }
@@ -128,7 +130,9 @@ public class KHRMaintenance1 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(device.address(), commandPool, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
 }
\ No newline at end of file
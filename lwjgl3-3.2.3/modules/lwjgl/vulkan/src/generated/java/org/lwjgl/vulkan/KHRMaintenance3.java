@@ -82,6 +82,8 @@ public class KHRMaintenance3 {
         VK_STRUCTURE_TYPE_PHYSICAL_DEVICE_MAINTENANCE_3_PROPERTIES_KHR = 1000168000,
         VK_STRUCTURE_TYPE_DESCRIPTOR_SET_LAYOUT_SUPPORT_KHR            = 1000168001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRMaintenance3.class, "vkGetDescriptorSetLayoutSupportKHR");
+
     protected KHRMaintenance3() {
         throw new UnsupportedOperationException();
     }
@@ -101,7 +103,9 @@ public class KHRMaintenance3 {
             check(__functionAddress);
             VkDescriptorSetLayoutCreateInfo.validate(pCreateInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pCreateInfo, pSupport, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -122,6 +122,8 @@ public class KHRPipelineExecutableProperties {
         VK_PIPELINE_EXECUTABLE_STATISTIC_FORMAT_UINT64_KHR  = 2,
         VK_PIPELINE_EXECUTABLE_STATISTIC_FORMAT_FLOAT64_KHR = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRPipelineExecutableProperties.class, "vkGetPipelineExecutablePropertiesKHR,vkGetPipelineExecutableStatisticsKHR,vkGetPipelineExecutableInternalRepresentationsKHR");
+
     protected KHRPipelineExecutableProperties() {
         throw new UnsupportedOperationException();
     }
@@ -146,7 +148,8 @@ public class KHRPipelineExecutableProperties {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(device.address(), pPipelineInfo, pExecutableCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pPipelineInfo, pExecutableCount, pProperties, __functionAddress));
     }
 
     /**
@@ -228,7 +231,8 @@ public class KHRPipelineExecutableProperties {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(device.address(), pExecutableInfo, pStatisticCount, pStatistics, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(device.address(), pExecutableInfo, pStatisticCount, pStatistics, __functionAddress));
     }
 
     /**
@@ -311,7 +315,8 @@ public class KHRPipelineExecutableProperties {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPPI(device.address(), pExecutableInfo, pInternalRepresentationCount, pInternalRepresentations, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(device.address(), pExecutableInfo, pInternalRepresentationCount, pInternalRepresentations, __functionAddress));
     }
 
     /**
@@ -393,7 +398,8 @@ public class KHRPipelineExecutableProperties {
             check(pExecutableCount, 1);
             checkSafe(pProperties, pExecutableCount[0]);
         }
-        return callPPPPI(device.address(), pPipelineInfo.address(), pExecutableCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pPipelineInfo.address(), pExecutableCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPipelineExecutableStatisticsKHR GetPipelineExecutableStatisticsKHR} */
@@ -405,7 +411,8 @@ public class KHRPipelineExecutableProperties {
             check(pStatisticCount, 1);
             checkSafe(pStatistics, pStatisticCount[0]);
         }
-        return callPPPPI(device.address(), pExecutableInfo.address(), pStatisticCount, memAddressSafe(pStatistics), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPPPI(device.address(), pExecutableInfo.address(), pStatisticCount, memAddressSafe(pStatistics), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPipelineExecutableInternalRepresentationsKHR GetPipelineExecutableInternalRepresentationsKHR} */
@@ -417,7 +424,8 @@ public class KHRPipelineExecutableProperties {
             check(pInternalRepresentationCount, 1);
             checkSafe(pInternalRepresentations, pInternalRepresentationCount[0]);
         }
-        return callPPPPI(device.address(), pExecutableInfo.address(), pInternalRepresentationCount, memAddressSafe(pInternalRepresentations), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(device.address(), pExecutableInfo.address(), pInternalRepresentationCount, memAddressSafe(pInternalRepresentations), __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -63,6 +63,8 @@ public class KHRPushDescriptor {
     /** Extends {@code VkDescriptorUpdateTemplateType}. */
     public static final int VK_DESCRIPTOR_UPDATE_TEMPLATE_TYPE_PUSH_DESCRIPTORS_KHR = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRPushDescriptor.class, "vkCmdPushDescriptorSetKHR,vkCmdPushDescriptorSetWithTemplateKHR");
+
     protected KHRPushDescriptor() {
         throw new UnsupportedOperationException();
     }
@@ -86,7 +88,9 @@ public class KHRPushDescriptor {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), pipelineBindPoint, layout, set, descriptorWriteCount, pDescriptorWrites, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -278,7 +282,9 @@ public class KHRPushDescriptor {
             check(__functionAddress);
             check(pData);
         }
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), descriptorUpdateTemplate, layout, set, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
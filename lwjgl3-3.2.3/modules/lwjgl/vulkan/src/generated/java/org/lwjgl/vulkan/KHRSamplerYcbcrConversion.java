@@ -285,6 +285,8 @@ public class KHRSamplerYcbcrConversion {
     /** Extends {@code VkDebugReportObjectTypeEXT}. */
     public static final int VK_DEBUG_REPORT_OBJECT_TYPE_SAMPLER_YCBCR_CONVERSION_EXT = 1000156000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRSamplerYcbcrConversion.class, "vkCreateSamplerYcbcrConversionKHR,vkDestroySamplerYcbcrConversionKHR");
+
     protected KHRSamplerYcbcrConversion() {
         throw new UnsupportedOperationException();
     }
@@ -305,7 +307,8 @@ public class KHRSamplerYcbcrConversion {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pYcbcrConversion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pYcbcrConversion, __functionAddress));
     }
 
     /**
@@ -333,7 +336,9 @@ public class KHRSamplerYcbcrConversion {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), ycbcrConversion, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -356,7 +361,8 @@ public class KHRSamplerYcbcrConversion {
             check(pYcbcrConversion, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pYcbcrConversion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pYcbcrConversion, __functionAddress));
     }
 
 }
\ No newline at end of file
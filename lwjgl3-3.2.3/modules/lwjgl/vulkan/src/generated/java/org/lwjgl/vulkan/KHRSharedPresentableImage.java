@@ -83,6 +83,8 @@ public class KHRSharedPresentableImage {
     /** Extends {@code VkImageLayout}. */
     public static final int VK_IMAGE_LAYOUT_SHARED_PRESENT_KHR = 1000111000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRSharedPresentableImage.class, "vkGetSwapchainStatusKHR");
+
     protected KHRSharedPresentableImage() {
         throw new UnsupportedOperationException();
     }
@@ -149,7 +151,8 @@ public class KHRSharedPresentableImage {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(device.address(), swapchain, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJI(device.address(), swapchain, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,8 @@ public class KHRSurface {
         VK_PRESENT_MODE_FIFO_KHR         = 2,
         VK_PRESENT_MODE_FIFO_RELAXED_KHR = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRSurface.class, "vkDestroySurfaceKHR,vkGetPhysicalDeviceSurfaceSupportKHR,vkGetPhysicalDeviceSurfaceCapabilitiesKHR,vkGetPhysicalDeviceSurfaceFormatsKHR,vkGetPhysicalDeviceSurfacePresentModesKHR");
+
     protected KHRSurface() {
         throw new UnsupportedOperationException();
     }
@@ -279,7 +281,9 @@ public class KHRSurface {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(instance.address(), surface, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -342,7 +346,8 @@ public class KHRSurface {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(physicalDevice.address(), queueFamilyIndex, surface, pSupported, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPI(physicalDevice.address(), queueFamilyIndex, surface, pSupported, __functionAddress));
     }
 
     /**
@@ -410,7 +415,8 @@ public class KHRSurface {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(physicalDevice.address(), surface, pSurfaceCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPI(physicalDevice.address(), surface, pSurfaceCapabilities, __functionAddress));
     }
 
     /**
@@ -475,7 +481,8 @@ public class KHRSurface {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(physicalDevice.address(), surface, pSurfaceFormatCount, pSurfaceFormats, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPPI(physicalDevice.address(), surface, pSurfaceFormatCount, pSurfaceFormats, __functionAddress));
     }
 
     /**
@@ -558,7 +565,8 @@ public class KHRSurface {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(physicalDevice.address(), surface, pPresentModeCount, pPresentModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPI(physicalDevice.address(), surface, pPresentModeCount, pPresentModes, __functionAddress));
     }
 
     /**
@@ -627,7 +635,8 @@ public class KHRSurface {
             check(__functionAddress);
             check(pSupported, 1);
         }
-        return callPJPI(physicalDevice.address(), queueFamilyIndex, surface, pSupported, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPJPI(physicalDevice.address(), queueFamilyIndex, surface, pSupported, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceSurfaceFormatsKHR GetPhysicalDeviceSurfaceFormatsKHR} */
@@ -639,7 +648,8 @@ public class KHRSurface {
             check(pSurfaceFormatCount, 1);
             checkSafe(pSurfaceFormats, pSurfaceFormatCount[0]);
         }
-        return callPJPPI(physicalDevice.address(), surface, pSurfaceFormatCount, memAddressSafe(pSurfaceFormats), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJPPI(physicalDevice.address(), surface, pSurfaceFormatCount, memAddressSafe(pSurfaceFormats), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceSurfacePresentModesKHR GetPhysicalDeviceSurfacePresentModesKHR} */
@@ -651,7 +661,8 @@ public class KHRSurface {
             check(pPresentModeCount, 1);
             checkSafe(pPresentModes, pPresentModeCount[0]);
         }
-        return callPJPPI(physicalDevice.address(), surface, pPresentModeCount, pPresentModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPJPPI(physicalDevice.address(), surface, pPresentModeCount, pPresentModes, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -172,6 +172,8 @@ public class KHRSwapchain {
         VK_DEVICE_GROUP_PRESENT_MODE_SUM_BIT_KHR                = 0x4,
         VK_DEVICE_GROUP_PRESENT_MODE_LOCAL_MULTI_DEVICE_BIT_KHR = 0x8;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRSwapchain.class, "vkCreateSwapchainKHR,vkDestroySwapchainKHR,vkGetSwapchainImagesKHR,vkAcquireNextImageKHR,vkQueuePresentKHR,vkGetDeviceGroupPresentCapabilitiesKHR,vkGetDeviceGroupSurfacePresentModesKHR,vkGetPhysicalDevicePresentRectanglesKHR,vkAcquireNextImage2KHR");
+
     protected KHRSwapchain() {
         throw new UnsupportedOperationException();
     }
@@ -205,7 +207,8 @@ public class KHRSwapchain {
             VkSwapchainCreateInfoKHR.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pSwapchain, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pSwapchain, __functionAddress));
     }
 
     /**
@@ -298,7 +301,9 @@ public class KHRSwapchain {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), swapchain, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -369,7 +374,8 @@ public class KHRSwapchain {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), swapchain, pSwapchainImageCount, pSwapchainImages, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPI(device.address(), swapchain, pSwapchainImageCount, pSwapchainImages, __functionAddress));
     }
 
     /**
@@ -437,7 +443,8 @@ public class KHRSwapchain {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJJJJPI(device.address(), swapchain, timeout, semaphore, fence, pImageIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJJJJPI(device.address(), swapchain, timeout, semaphore, fence, pImageIndex, __functionAddress));
     }
 
     /**
@@ -533,7 +540,8 @@ public class KHRSwapchain {
             check(__functionAddress);
             VkPresentInfoKHR.validate(pPresentInfo);
         }
-        return callPPI(queue.address(), pPresentInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPI(queue.address(), pPresentInfo, __functionAddress));
     }
 
     /**
@@ -637,7 +645,8 @@ public class KHRSwapchain {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pDeviceGroupPresentCapabilities, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(device.address(), pDeviceGroupPresentCapabilities, __functionAddress));
     }
 
     /**
@@ -695,7 +704,8 @@ public class KHRSwapchain {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), surface, pModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPJPI(device.address(), surface, pModes, __functionAddress));
     }
 
     /**
@@ -771,7 +781,8 @@ public class KHRSwapchain {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(physicalDevice.address(), surface, pRectCount, pRects, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJPPI(physicalDevice.address(), surface, pRectCount, pRects, __functionAddress));
     }
 
     /**
@@ -855,7 +866,8 @@ public class KHRSwapchain {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(device.address(), pAcquireInfo, pImageIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPI(device.address(), pAcquireInfo, pImageIndex, __functionAddress));
     }
 
     /**
@@ -932,7 +944,8 @@ public class KHRSwapchain {
             VkSwapchainCreateInfoKHR.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSwapchain, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSwapchain, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetSwapchainImagesKHR GetSwapchainImagesKHR} */
@@ -944,7 +957,8 @@ public class KHRSwapchain {
             check(pSwapchainImageCount, 1);
             checkSafe(pSwapchainImages, pSwapchainImageCount[0]);
         }
-        return callPJPPI(device.address(), swapchain, pSwapchainImageCount, pSwapchainImages, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPJPPI(device.address(), swapchain, pSwapchainImageCount, pSwapchainImages, __functionAddress));
     }
 
     /** Array version of: {@link #vkAcquireNextImageKHR AcquireNextImageKHR} */
@@ -955,7 +969,8 @@ public class KHRSwapchain {
             check(__functionAddress);
             check(pImageIndex, 1);
         }
-        return callPJJJJPI(device.address(), swapchain, timeout, semaphore, fence, pImageIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPJJJJPI(device.address(), swapchain, timeout, semaphore, fence, pImageIndex, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDeviceGroupSurfacePresentModesKHR GetDeviceGroupSurfacePresentModesKHR} */
@@ -966,7 +981,8 @@ public class KHRSwapchain {
             check(__functionAddress);
             check(pModes, 1);
         }
-        return callPJPI(device.address(), surface, pModes, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPJPI(device.address(), surface, pModes, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDevicePresentRectanglesKHR GetPhysicalDevicePresentRectanglesKHR} */
@@ -978,7 +994,8 @@ public class KHRSwapchain {
             check(pRectCount, 1);
             checkSafe(pRects, pRectCount[0]);
         }
-        return callPJPPI(physicalDevice.address(), surface, pRectCount, memAddressSafe(pRects), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJPPI(physicalDevice.address(), surface, pRectCount, memAddressSafe(pRects), __functionAddress));
     }
 
     /** Array version of: {@link #vkAcquireNextImage2KHR AcquireNextImage2KHR} */
@@ -989,7 +1006,8 @@ public class KHRSwapchain {
             check(__functionAddress);
             check(pImageIndex, 1);
         }
-        return callPPPI(device.address(), pAcquireInfo.address(), pImageIndex, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPPPI(device.address(), pAcquireInfo.address(), pImageIndex, __functionAddress));
     }
 
 }
\ No newline at end of file
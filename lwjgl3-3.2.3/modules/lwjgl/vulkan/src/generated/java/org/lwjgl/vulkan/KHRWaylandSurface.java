@@ -73,6 +73,8 @@ public class KHRWaylandSurface {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_WAYLAND_SURFACE_CREATE_INFO_KHR = 1000006000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRWaylandSurface.class, "vkCreateWaylandSurfaceKHR,vkGetPhysicalDeviceWaylandPresentationSupportKHR");
+
     protected KHRWaylandSurface() {
         throw new UnsupportedOperationException();
     }
@@ -94,7 +96,8 @@ public class KHRWaylandSurface {
             VkWaylandSurfaceCreateInfoKHR.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress));
     }
 
     /**
@@ -194,7 +197,8 @@ public class KHRWaylandSurface {
             check(__functionAddress);
             check(display);
         }
-        return callPPI(physicalDevice.address(), queueFamilyIndex, display, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(physicalDevice.address(), queueFamilyIndex, display, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #vkCreateWaylandSurfaceKHR CreateWaylandSurfaceKHR} */
@@ -207,7 +211,8 @@ public class KHRWaylandSurface {
             VkWaylandSurfaceCreateInfoKHR.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -73,6 +73,8 @@ public class KHRWin32Surface {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_WIN32_SURFACE_CREATE_INFO_KHR = 1000009000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRWin32Surface.class, "vkCreateWin32SurfaceKHR,vkGetPhysicalDeviceWin32PresentationSupportKHR");
+
     protected KHRWin32Surface() {
         throw new UnsupportedOperationException();
     }
@@ -94,7 +96,8 @@ public class KHRWin32Surface {
             VkWin32SurfaceCreateInfoKHR.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress));
     }
 
     /**
@@ -190,7 +193,8 @@ public class KHRWin32Surface {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(physicalDevice.address(), queueFamilyIndex, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPI(physicalDevice.address(), queueFamilyIndex, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #vkCreateWin32SurfaceKHR CreateWin32SurfaceKHR} */
@@ -203,7 +207,8 @@ public class KHRWin32Surface {
             VkWin32SurfaceCreateInfoKHR.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -73,6 +73,8 @@ public class KHRXlibSurface {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_XLIB_SURFACE_CREATE_INFO_KHR = 1000004000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(KHRXlibSurface.class, "vkCreateXlibSurfaceKHR,vkGetPhysicalDeviceXlibPresentationSupportKHR");
+
     protected KHRXlibSurface() {
         throw new UnsupportedOperationException();
     }
@@ -94,7 +96,8 @@ public class KHRXlibSurface {
             VkXlibSurfaceCreateInfoKHR.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress));
     }
 
     /**
@@ -195,7 +198,8 @@ public class KHRXlibSurface {
             check(__functionAddress);
             check(dpy);
         }
-        return callPPNI(physicalDevice.address(), queueFamilyIndex, dpy, visualID, __functionAddress) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPNI(physicalDevice.address(), queueFamilyIndex, dpy, visualID, __functionAddress)) != 0;
     }
 
     /** Array version of: {@link #vkCreateXlibSurfaceKHR CreateXlibSurfaceKHR} */
@@ -208,7 +212,8 @@ public class KHRXlibSurface {
             VkXlibSurfaceCreateInfoKHR.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -57,6 +57,8 @@ public class MVKMacosSurface {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_MACOS_SURFACE_CREATE_INFO_MVK = 1000123000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(MVKMacosSurface.class, "vkCreateMacOSSurfaceMVK");
+
     protected MVKMacosSurface() {
         throw new UnsupportedOperationException();
     }
@@ -77,7 +79,8 @@ public class MVKMacosSurface {
             VkMacOSSurfaceCreateInfoMVK.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo, pAllocator, pSurface, __functionAddress));
     }
 
     /**
@@ -145,7 +148,8 @@ public class MVKMacosSurface {
             VkMacOSSurfaceCreateInfoMVK.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(instance.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSurface, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -141,6 +141,8 @@ public class NVClipSpaceWScaling {
     /** Extends {@code VkDynamicState}. */
     public static final int VK_DYNAMIC_STATE_VIEWPORT_W_SCALING_NV = 1000087000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVClipSpaceWScaling.class, "vkCmdSetViewportWScalingNV");
+
     protected NVClipSpaceWScaling() {
         throw new UnsupportedOperationException();
     }
@@ -163,7 +165,9 @@ public class NVClipSpaceWScaling {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), firstViewport, viewportCount, pViewportWScalings, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
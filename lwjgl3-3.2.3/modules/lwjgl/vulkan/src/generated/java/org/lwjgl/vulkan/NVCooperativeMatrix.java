@@ -134,6 +134,8 @@ public class NVCooperativeMatrix {
         VK_SCOPE_SUBGROUP_NV     = 3,
         VK_SCOPE_QUEUE_FAMILY_NV = 5;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVCooperativeMatrix.class, "vkGetPhysicalDeviceCooperativeMatrixPropertiesNV");
+
     protected NVCooperativeMatrix() {
         throw new UnsupportedOperationException();
     }
@@ -156,7 +158,8 @@ public class NVCooperativeMatrix {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -225,7 +228,8 @@ public class NVCooperativeMatrix {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
 }
\ No newline at end of file
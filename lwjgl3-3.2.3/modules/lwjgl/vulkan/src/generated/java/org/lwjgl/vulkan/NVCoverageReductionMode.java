@@ -96,6 +96,8 @@ public class NVCoverageReductionMode {
         VK_COVERAGE_REDUCTION_MODE_MERGE_NV    = 0,
         VK_COVERAGE_REDUCTION_MODE_TRUNCATE_NV = 1;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVCoverageReductionMode.class, "vkGetPhysicalDeviceSupportedFramebufferMixedSamplesCombinationsNV");
+
     protected NVCoverageReductionMode() {
         throw new UnsupportedOperationException();
     }
@@ -118,7 +120,8 @@ public class NVCoverageReductionMode {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pCombinationCount, pCombinations, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pCombinationCount, pCombinations, __functionAddress));
     }
 
     /**
@@ -187,7 +190,8 @@ public class NVCoverageReductionMode {
             check(pCombinationCount, 1);
             checkSafe(pCombinations, pCombinationCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pCombinationCount, memAddressSafe(pCombinations), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(physicalDevice.address(), pCombinationCount, memAddressSafe(pCombinations), __functionAddress));
     }
 
 }
\ No newline at end of file
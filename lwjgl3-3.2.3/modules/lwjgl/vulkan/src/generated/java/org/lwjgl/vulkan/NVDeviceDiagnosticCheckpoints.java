@@ -72,6 +72,8 @@ public class NVDeviceDiagnosticCheckpoints {
         VK_STRUCTURE_TYPE_CHECKPOINT_DATA_NV                    = 1000206000,
         VK_STRUCTURE_TYPE_QUEUE_FAMILY_CHECKPOINT_PROPERTIES_NV = 1000206001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVDeviceDiagnosticCheckpoints.class, "vkCmdSetCheckpointNV,vkGetQueueCheckpointDataNV");
+
     protected NVDeviceDiagnosticCheckpoints() {
         throw new UnsupportedOperationException();
     }
@@ -127,7 +129,9 @@ public class NVDeviceDiagnosticCheckpoints {
             check(__functionAddress);
             check(pCheckpointMarker);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pCheckpointMarker, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ vkGetQueueCheckpointDataNV ] ---
@@ -142,7 +146,9 @@ public class NVDeviceDiagnosticCheckpoints {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(queue.address(), pCheckpointDataCount, pCheckpointData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -204,7 +210,9 @@ public class NVDeviceDiagnosticCheckpoints {
             check(pCheckpointDataCount, 1);
             checkSafe(pCheckpointData, pCheckpointDataCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(queue.address(), pCheckpointDataCount, memAddressSafe(pCheckpointData), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
 }
\ No newline at end of file
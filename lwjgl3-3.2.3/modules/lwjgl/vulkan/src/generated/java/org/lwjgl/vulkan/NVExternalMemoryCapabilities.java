@@ -105,6 +105,8 @@ public class NVExternalMemoryCapabilities {
         VK_EXTERNAL_MEMORY_FEATURE_EXPORTABLE_BIT_NV     = 0x2,
         VK_EXTERNAL_MEMORY_FEATURE_IMPORTABLE_BIT_NV     = 0x4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVExternalMemoryCapabilities.class, "vkGetPhysicalDeviceExternalImageFormatPropertiesNV");
+
     protected NVExternalMemoryCapabilities() {
         throw new UnsupportedOperationException();
     }
@@ -123,7 +125,8 @@ public class NVExternalMemoryCapabilities {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(physicalDevice.address(), format, type, tiling, usage, flags, externalHandleType, pExternalImageFormatProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(physicalDevice.address(), format, type, tiling, usage, flags, externalHandleType, pExternalImageFormatProperties, __functionAddress));
     }
 
     /**
@@ -206,6 +206,8 @@ public class NVExternalMemoryWin32 {
         VK_STRUCTURE_TYPE_IMPORT_MEMORY_WIN32_HANDLE_INFO_NV = 1000057000,
         VK_STRUCTURE_TYPE_EXPORT_MEMORY_WIN32_HANDLE_INFO_NV = 1000057001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVExternalMemoryWin32.class, "vkGetMemoryWin32HandleNV");
+
     protected NVExternalMemoryWin32() {
         throw new UnsupportedOperationException();
     }
@@ -224,7 +226,8 @@ public class NVExternalMemoryWin32 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPI(device.address(), memory, handleType, pHandle, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPJPI(device.address(), memory, handleType, pHandle, __functionAddress));
     }
 
     /**
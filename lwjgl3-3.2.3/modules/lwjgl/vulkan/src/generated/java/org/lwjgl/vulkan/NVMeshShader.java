@@ -101,6 +101,8 @@ public class NVMeshShader {
         VK_PIPELINE_STAGE_TASK_SHADER_BIT_NV = 0x80000,
         VK_PIPELINE_STAGE_MESH_SHADER_BIT_NV = 0x100000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVMeshShader.class, "vkCmdDrawMeshTasksNV,vkCmdDrawMeshTasksIndirectNV,vkCmdDrawMeshTasksIndirectCountNV");
+
     protected NVMeshShader() {
         throw new UnsupportedOperationException();
     }
@@ -193,7 +195,9 @@ public class NVMeshShader {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), taskCount, firstTask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ vkCmdDrawMeshTasksIndirectNV ] ---
@@ -290,7 +294,9 @@ public class NVMeshShader {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), buffer, offset, drawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     // --- [ vkCmdDrawMeshTasksIndirectCountNV ] ---
@@ -395,7 +401,9 @@ public class NVMeshShader {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJJJV(commandBuffer.address(), buffer, offset, countBuffer, countBufferOffset, maxDrawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
 }
\ No newline at end of file
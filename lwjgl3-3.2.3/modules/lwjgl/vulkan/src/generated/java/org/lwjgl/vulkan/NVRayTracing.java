@@ -387,6 +387,8 @@ public class NVRayTracing {
         VK_ACCELERATION_STRUCTURE_MEMORY_REQUIREMENTS_TYPE_BUILD_SCRATCH_NV  = 1,
         VK_ACCELERATION_STRUCTURE_MEMORY_REQUIREMENTS_TYPE_UPDATE_SCRATCH_NV = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVRayTracing.class, "vkCreateAccelerationStructureNV,vkDestroyAccelerationStructureNV,vkGetAccelerationStructureMemoryRequirementsNV,vkBindAccelerationStructureMemoryNV,vkCmdBuildAccelerationStructureNV,vkCmdCopyAccelerationStructureNV,vkCmdTraceRaysNV,vkCreateRayTracingPipelinesNV,vkGetRayTracingShaderGroupHandlesNV,vkGetAccelerationStructureHandleNV,vkCmdWriteAccelerationStructuresPropertiesNV,vkCompileDeferredNV");
+
     protected NVRayTracing() {
         throw new UnsupportedOperationException();
     }
@@ -418,7 +420,8 @@ public class NVRayTracing {
             VkAccelerationStructureCreateInfoNV.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pAccelerationStructure, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pAccelerationStructure, __functionAddress));
     }
 
     /**
@@ -489,7 +492,9 @@ public class NVRayTracing {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), accelerationStructure, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -542,7 +547,9 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pInfo, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -593,7 +600,8 @@ public class NVRayTracing {
             check(__functionAddress);
             VkBindAccelerationStructureMemoryInfoNV.validate(pBindInfos, bindInfoCount);
         }
-        return callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress));
     }
 
     /**
@@ -652,7 +660,9 @@ public class NVRayTracing {
             check(__functionAddress);
             VkAccelerationStructureInfoNV.validate(pInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPJJJJJJV(commandBuffer.address(), pInfo, instanceData, instanceOffset, update, dst, src, scratch, scratchOffset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -790,7 +800,9 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), dst, src, mode, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ vkCmdTraceRaysNV ] ---
@@ -913,7 +925,9 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJJJJJJJJJJJV(commandBuffer.address(), raygenShaderBindingTableBuffer, raygenShaderBindingOffset, missShaderBindingTableBuffer, missShaderBindingOffset, missShaderBindingStride, hitShaderBindingTableBuffer, hitShaderBindingOffset, hitShaderBindingStride, callableShaderBindingTableBuffer, callableShaderBindingOffset, callableShaderBindingStride, width, height, depth, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ vkCreateRayTracingPipelinesNV ] ---
@@ -930,7 +944,8 @@ public class NVRayTracing {
             VkRayTracingPipelineCreateInfoNV.validate(pCreateInfos, createInfoCount);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPJPPPI(device.address(), pipelineCache, createInfoCount, pCreateInfos, pAllocator, pPipelines, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJPPPI(device.address(), pipelineCache, createInfoCount, pCreateInfos, pAllocator, pPipelines, __functionAddress));
     }
 
     /**
@@ -1013,7 +1028,8 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), pipeline, firstGroup, groupCount, dataSize, pData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, callPJPPI(device.address(), pipeline, firstGroup, groupCount, dataSize, pData, __functionAddress));
     }
 
     /**
@@ -1086,7 +1102,8 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), accelerationStructure, dataSize, pData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPJPPI(device.address(), accelerationStructure, dataSize, pData, __functionAddress));
     }
 
     /**
@@ -1209,7 +1226,9 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPJV(commandBuffer.address(), accelerationStructureCount, pAccelerationStructures, queryType, queryPool, firstQuery, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1328,7 +1347,8 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJI(device.address(), pipeline, shader, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPJI(device.address(), pipeline, shader, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateAccelerationStructureNV CreateAccelerationStructureNV} */
@@ -1341,7 +1361,8 @@ public class NVRayTracing {
             VkAccelerationStructureCreateInfoNV.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pAccelerationStructure, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pAccelerationStructure, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateRayTracingPipelinesNV CreateRayTracingPipelinesNV} */
@@ -1354,7 +1375,8 @@ public class NVRayTracing {
             VkRayTracingPipelineCreateInfoNV.validate(pCreateInfos.address(), pCreateInfos.remaining());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPJPPPI(device.address(), pipelineCache, pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pPipelines, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJPPPI(device.address(), pipelineCache, pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pPipelines, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetAccelerationStructureHandleNV GetAccelerationStructureHandleNV} */
@@ -1364,7 +1386,8 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), accelerationStructure, Integer.toUnsignedLong(pData.length) << 3, pData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPJPPI(device.address(), accelerationStructure, Integer.toUnsignedLong(pData.length) << 3, pData, __functionAddress));
     }
 
     /** Array version of: {@link #vkCmdWriteAccelerationStructuresPropertiesNV CmdWriteAccelerationStructuresPropertiesNV} */
@@ -1373,7 +1396,9 @@ public class NVRayTracing {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPJV(commandBuffer.address(), pAccelerationStructures.length, pAccelerationStructures, queryType, queryPool, firstQuery, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
 }
\ No newline at end of file
@@ -71,6 +71,8 @@ public class NVScissorExclusive {
     /** Extends {@code VkDynamicState}. */
     public static final int VK_DYNAMIC_STATE_EXCLUSIVE_SCISSOR_NV = 1000205001;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVScissorExclusive.class, "vkCmdSetExclusiveScissorNV");
+
     protected NVScissorExclusive() {
         throw new UnsupportedOperationException();
     }
@@ -93,7 +95,9 @@ public class NVScissorExclusive {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), firstExclusiveScissor, exclusiveScissorCount, pExclusiveScissors, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -173,6 +173,8 @@ public class NVShadingRateImage {
         VK_COARSE_SAMPLE_ORDER_TYPE_PIXEL_MAJOR_NV  = 2,
         VK_COARSE_SAMPLE_ORDER_TYPE_SAMPLE_MAJOR_NV = 3;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVShadingRateImage.class, "vkCmdBindShadingRateImageNV,vkCmdSetViewportShadingRatePaletteNV,vkCmdSetCoarseSampleOrderNV");
+
     protected NVShadingRateImage() {
         throw new UnsupportedOperationException();
     }
@@ -245,7 +247,9 @@ public class NVShadingRateImage {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), imageView, imageLayout, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     // --- [ vkCmdSetViewportShadingRatePaletteNV ] ---
@@ -261,7 +265,9 @@ public class NVShadingRateImage {
             check(__functionAddress);
             VkShadingRatePaletteNV.validate(pShadingRatePalettes, viewportCount);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), firstViewport, viewportCount, pShadingRatePalettes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -338,7 +344,9 @@ public class NVShadingRateImage {
             check(__functionAddress);
             if (pCustomSampleOrders != NULL) { VkCoarseSampleOrderCustomNV.validate(pCustomSampleOrders, customSampleOrderCount); }
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), sampleOrderType, customSampleOrderCount, pCustomSampleOrders, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     /**
@@ -311,6 +311,8 @@ public class NVXDeviceGeneratedCommands {
         VK_OBJECT_ENTRY_TYPE_VERTEX_BUFFER_NVX  = 3,
         VK_OBJECT_ENTRY_TYPE_PUSH_CONSTANT_NVX  = 4;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVXDeviceGeneratedCommands.class, "vkCmdProcessCommandsNVX,vkCmdReserveSpaceForCommandsNVX,vkCreateIndirectCommandsLayoutNVX,vkDestroyIndirectCommandsLayoutNVX,vkCreateObjectTableNVX,vkDestroyObjectTableNVX,vkRegisterObjectsNVX,vkUnregisterObjectsNVX,vkGetPhysicalDeviceGeneratedCommandsPropertiesNVX");
+
     protected NVXDeviceGeneratedCommands() {
         throw new UnsupportedOperationException();
     }
@@ -343,7 +345,9 @@ public class NVXDeviceGeneratedCommands {
             check(__functionAddress);
             VkCmdProcessCommandsInfoNVX.validate(pProcessCommandsInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pProcessCommandsInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID, __start);
     }
 
     /**
@@ -401,7 +405,9 @@ public class NVXDeviceGeneratedCommands {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pReserveSpaceInfo, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -468,7 +474,8 @@ public class NVXDeviceGeneratedCommands {
             VkIndirectCommandsLayoutCreateInfoNVX.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pIndirectCommandsLayout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pIndirectCommandsLayout, __functionAddress));
     }
 
     /**
@@ -534,7 +541,9 @@ public class NVXDeviceGeneratedCommands {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), indirectCommandsLayout, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -589,7 +598,8 @@ public class NVXDeviceGeneratedCommands {
             VkObjectTableCreateInfoNVX.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pObjectTable, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pObjectTable, __functionAddress));
     }
 
     /**
@@ -655,7 +665,9 @@ public class NVXDeviceGeneratedCommands {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), objectTable, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     /**
@@ -718,7 +730,8 @@ public class NVXDeviceGeneratedCommands {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), objectTable, objectCount, ppObjectTableEntries, pObjectIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPJPPI(device.address(), objectTable, objectCount, ppObjectTableEntries, pObjectIndices, __functionAddress));
     }
 
     /**
@@ -804,7 +817,8 @@ public class NVXDeviceGeneratedCommands {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPJPPI(device.address(), objectTable, objectCount, pObjectEntryTypes, pObjectIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJPPI(device.address(), objectTable, objectCount, pObjectEntryTypes, pObjectIndices, __functionAddress));
     }
 
     /**
@@ -881,7 +895,9 @@ public class NVXDeviceGeneratedCommands {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pFeatures, pLimits, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -927,7 +943,8 @@ public class NVXDeviceGeneratedCommands {
             VkIndirectCommandsLayoutCreateInfoNVX.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pIndirectCommandsLayout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pIndirectCommandsLayout, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateObjectTableNVX CreateObjectTableNVX} */
@@ -940,7 +957,8 @@ public class NVXDeviceGeneratedCommands {
             VkObjectTableCreateInfoNVX.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pObjectTable, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pObjectTable, __functionAddress));
     }
 
     /** Array version of: {@link #vkRegisterObjectsNVX RegisterObjectsNVX} */
@@ -951,7 +969,8 @@ public class NVXDeviceGeneratedCommands {
             check(__functionAddress);
             check(pObjectIndices, ppObjectTableEntries.remaining());
         }
-        return callPJPPI(device.address(), objectTable, ppObjectTableEntries.remaining(), memAddress(ppObjectTableEntries), pObjectIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPJPPI(device.address(), objectTable, ppObjectTableEntries.remaining(), memAddress(ppObjectTableEntries), pObjectIndices, __functionAddress));
     }
 
     /** Array version of: {@link #vkUnregisterObjectsNVX UnregisterObjectsNVX} */
@@ -962,7 +981,8 @@ public class NVXDeviceGeneratedCommands {
             check(__functionAddress);
             check(pObjectIndices, pObjectEntryTypes.length);
         }
-        return callPJPPI(device.address(), objectTable, pObjectEntryTypes.length, pObjectEntryTypes, pObjectIndices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, callPJPPI(device.address(), objectTable, pObjectEntryTypes.length, pObjectEntryTypes, pObjectIndices, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -51,6 +51,8 @@ public class NVXImageViewHandle {
     /** Extends {@code VkStructureType}. */
     public static final int VK_STRUCTURE_TYPE_IMAGE_VIEW_HANDLE_INFO_NVX = 1000030000;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(NVXImageViewHandle.class, "vkGetImageViewHandleNVX");
+
     protected NVXImageViewHandle() {
         throw new UnsupportedOperationException();
     }
@@ -69,7 +71,8 @@ public class NVXImageViewHandle {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), pInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPI(device.address(), pInfo, __functionAddress));
     }
 
     /**
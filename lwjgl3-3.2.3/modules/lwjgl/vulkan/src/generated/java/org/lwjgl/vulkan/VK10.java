@@ -2677,6 +2677,8 @@ public class VK10 {
     /** API Constants */
     public static final long VK_WHOLE_SIZE = (~0L);
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VK10.class, "vkCreateInstance,vkDestroyInstance,vkEnumeratePhysicalDevices,vkGetPhysicalDeviceFeatures,vkGetPhysicalDeviceFormatProperties,vkGetPhysicalDeviceImageFormatProperties,vkGetPhysicalDeviceProperties,vkGetPhysicalDeviceQueueFamilyProperties,vkGetPhysicalDeviceMemoryProperties,vkGetInstanceProcAddr,vkGetDeviceProcAddr,vkCreateDevice,vkDestroyDevice,vkEnumerateInstanceExtensionProperties,vkEnumerateDeviceExtensionProperties,vkEnumerateInstanceLayerProperties,vkEnumerateDeviceLayerProperties,vkGetDeviceQueue,vkQueueSubmit,vkQueueWaitIdle,vkDeviceWaitIdle,vkAllocateMemory,vkFreeMemory,vkMapMemory,vkUnmapMemory,vkFlushMappedMemoryRanges,vkInvalidateMappedMemoryRanges,vkGetDeviceMemoryCommitment,vkBindBufferMemory,vkBindImageMemory,vkGetBufferMemoryRequirements,vkGetImageMemoryRequirements,vkGetImageSparseMemoryRequirements,vkGetPhysicalDeviceSparseImageFormatProperties,vkQueueBindSparse,vkCreateFence,vkDestroyFence,vkResetFences,vkGetFenceStatus,vkWaitForFences,vkCreateSemaphore,vkDestroySemaphore,vkCreateEvent,vkDestroyEvent,vkGetEventStatus,vkSetEvent,vkResetEvent,vkCreateQueryPool,vkDestroyQueryPool,vkGetQueryPoolResults,vkCreateBuffer,vkDestroyBuffer,vkCreateBufferView,vkDestroyBufferView,vkCreateImage,vkDestroyImage,vkGetImageSubresourceLayout,vkCreateImageView,vkDestroyImageView,vkCreateShaderModule,vkDestroyShaderModule,vkCreatePipelineCache,vkDestroyPipelineCache,vkGetPipelineCacheData,vkMergePipelineCaches,vkCreateGraphicsPipelines,vkCreateComputePipelines,vkDestroyPipeline,vkCreatePipelineLayout,vkDestroyPipelineLayout,vkCreateSampler,vkDestroySampler,vkCreateDescriptorSetLayout,vkDestroyDescriptorSetLayout,vkCreateDescriptorPool,vkDestroyDescriptorPool,vkResetDescriptorPool,vkAllocateDescriptorSets,vkFreeDescriptorSets,vkUpdateDescriptorSets,vkCreateFramebuffer,vkDestroyFramebuffer,vkCreateRenderPass,vkDestroyRenderPass,vkGetRenderAreaGranularity,vkCreateCommandPool,vkDestroyCommandPool,vkResetCommandPool,vkAllocateCommandBuffers,vkFreeCommandBuffers,vkBeginCommandBuffer,vkEndCommandBuffer,vkResetCommandBuffer,vkCmdBindPipeline,vkCmdSetViewport,vkCmdSetScissor,vkCmdSetLineWidth,vkCmdSetDepthBias,vkCmdSetBlendConstants,vkCmdSetDepthBounds,vkCmdSetStencilCompareMask,vkCmdSetStencilWriteMask,vkCmdSetStencilReference,vkCmdBindDescriptorSets,vkCmdBindIndexBuffer,vkCmdBindVertexBuffers,vkCmdDraw,vkCmdDrawIndexed,vkCmdDrawIndirect,vkCmdDrawIndexedIndirect,vkCmdDispatch,vkCmdDispatchIndirect,vkCmdCopyBuffer,vkCmdCopyImage,vkCmdBlitImage,vkCmdCopyBufferToImage,vkCmdCopyImageToBuffer,vkCmdUpdateBuffer,vkCmdFillBuffer,vkCmdClearColorImage,vkCmdClearDepthStencilImage,vkCmdClearAttachments,vkCmdResolveImage,vkCmdSetEvent,vkCmdResetEvent,vkCmdWaitEvents,vkCmdPipelineBarrier,vkCmdBeginQuery,vkCmdEndQuery,vkCmdResetQueryPool,vkCmdWriteTimestamp,vkCmdCopyQueryPoolResults,vkCmdPushConstants,vkCmdBeginRenderPass,vkCmdNextSubpass,vkCmdEndRenderPass,vkCmdExecuteCommands");
+
     protected VK10() {
         throw new UnsupportedOperationException();
     }
@@ -2833,7 +2835,8 @@ public class VK10 {
             VkInstanceCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPI(pCreateInfo, pAllocator, pInstance, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPPPI(pCreateInfo, pAllocator, pInstance, __functionAddress));
     }
 
     /**
@@ -2909,7 +2912,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPPV(instance.address(), pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 1, __start);
     }
 
     /**
@@ -2965,7 +2970,8 @@ public class VK10 {
      */
     public static int nvkEnumeratePhysicalDevices(VkInstance instance, long pPhysicalDeviceCount, long pPhysicalDevices) {
         long __functionAddress = instance.getCapabilities().vkEnumeratePhysicalDevices;
-        return callPPPI(instance.address(), pPhysicalDeviceCount, pPhysicalDevices, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(instance.address(), pPhysicalDeviceCount, pPhysicalDevices, __functionAddress));
     }
 
     /**
@@ -3027,7 +3033,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetPhysicalDeviceFeatures GetPhysicalDeviceFeatures} */
     public static void nvkGetPhysicalDeviceFeatures(VkPhysicalDevice physicalDevice, long pFeatures) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceFeatures;
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -3065,7 +3073,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetPhysicalDeviceFormatProperties GetPhysicalDeviceFormatProperties} */
     public static void nvkGetPhysicalDeviceFormatProperties(VkPhysicalDevice physicalDevice, int format, long pFormatProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceFormatProperties;
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), format, pFormatProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     /**
@@ -3106,7 +3116,8 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetPhysicalDeviceImageFormatProperties GetPhysicalDeviceImageFormatProperties} */
     public static int nvkGetPhysicalDeviceImageFormatProperties(VkPhysicalDevice physicalDevice, int format, int type, int tiling, int usage, int flags, long pImageFormatProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceImageFormatProperties;
-        return callPPI(physicalDevice.address(), format, type, tiling, usage, flags, pImageFormatProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, callPPI(physicalDevice.address(), format, type, tiling, usage, flags, pImageFormatProperties, __functionAddress));
     }
 
     /**
@@ -3190,7 +3201,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetPhysicalDeviceProperties GetPhysicalDeviceProperties} */
     public static void nvkGetPhysicalDeviceProperties(VkPhysicalDevice physicalDevice, long pProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceProperties;
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     /**
@@ -3232,7 +3245,9 @@ public class VK10 {
      */
     public static void nvkGetPhysicalDeviceQueueFamilyProperties(VkPhysicalDevice physicalDevice, long pQueueFamilyPropertyCount, long pQueueFamilyProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceQueueFamilyProperties;
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pQueueFamilyPropertyCount, pQueueFamilyProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -3281,7 +3296,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetPhysicalDeviceMemoryProperties GetPhysicalDeviceMemoryProperties} */
     public static void nvkGetPhysicalDeviceMemoryProperties(VkPhysicalDevice physicalDevice, long pMemoryProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceMemoryProperties;
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pMemoryProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -3319,7 +3336,8 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetInstanceProcAddr GetInstanceProcAddr} */
     public static long nvkGetInstanceProcAddr(VkInstance instance, long pName) {
         long __functionAddress = VK.getGlobalCommands().vkGetInstanceProcAddr;
-        return callPPP(instance.address(), pName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, callPPP(instance.address(), pName, __functionAddress));
     }
 
     /**
@@ -3469,7 +3487,8 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetDeviceProcAddr GetDeviceProcAddr} */
     public static long nvkGetDeviceProcAddr(VkDevice device, long pName) {
         long __functionAddress = device.getCapabilities().vkGetDeviceProcAddr;
-        return callPPP(device.address(), pName, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, callPPP(device.address(), pName, __functionAddress));
     }
 
     /**
@@ -3597,7 +3616,8 @@ public class VK10 {
             VkDeviceCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(physicalDevice.address(), pCreateInfo, pAllocator, pDevice, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, callPPPPI(physicalDevice.address(), pCreateInfo, pAllocator, pDevice, __functionAddress));
     }
 
     /**
@@ -3681,7 +3701,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPPV(device.address(), pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -3746,7 +3768,8 @@ public class VK10 {
      */
     public static int nvkEnumerateInstanceExtensionProperties(long pLayerName, long pPropertyCount, long pProperties) {
         long __functionAddress = VK.getGlobalCommands().vkEnumerateInstanceExtensionProperties;
-        return callPPPI(pLayerName, pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(pLayerName, pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -3894,7 +3917,8 @@ public class VK10 {
      */
     public static int nvkEnumerateDeviceExtensionProperties(VkPhysicalDevice physicalDevice, long pLayerName, long pPropertyCount, long pProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkEnumerateDeviceExtensionProperties;
-        return callPPPPI(physicalDevice.address(), pLayerName, pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPI(physicalDevice.address(), pLayerName, pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -4040,7 +4064,8 @@ public class VK10 {
      */
     public static int nvkEnumerateInstanceLayerProperties(long pPropertyCount, long pProperties) {
         long __functionAddress = VK.getGlobalCommands().vkEnumerateInstanceLayerProperties;
-        return callPPI(pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPI(pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -4108,7 +4133,8 @@ public class VK10 {
      */
     public static int nvkEnumerateDeviceLayerProperties(VkPhysicalDevice physicalDevice, long pPropertyCount, long pProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkEnumerateDeviceLayerProperties;
-        return callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPPI(physicalDevice.address(), pPropertyCount, pProperties, __functionAddress));
     }
 
     /**
@@ -4174,7 +4200,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetDeviceQueue GetDeviceQueue} */
     public static void nvkGetDeviceQueue(VkDevice device, int queueFamilyIndex, int queueIndex, long pQueue) {
         long __functionAddress = device.getCapabilities().vkGetDeviceQueue;
+        long __start = FunctionProfiler.start();
         callPPV(device.address(), queueFamilyIndex, queueIndex, pQueue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     /**
@@ -4234,7 +4262,8 @@ public class VK10 {
         if (CHECKS) {
             if (pSubmits != NULL) { VkSubmitInfo.validate(pSubmits, submitCount); }
         }
-        return callPPJI(queue.address(), submitCount, pSubmits, fence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, callPPJI(queue.address(), submitCount, pSubmits, fence, __functionAddress));
     }
 
     /**
@@ -4496,7 +4525,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkQueueWaitIdle(VkQueue queue) {
         long __functionAddress = queue.getCapabilities().vkQueueWaitIdle;
-        return callPI(queue.address(), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPI(queue.address(), __functionAddress));
     }
 
     // --- [ vkDeviceWaitIdle ] ---
@@ -4548,7 +4578,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkDeviceWaitIdle(VkDevice device) {
         long __functionAddress = device.getCapabilities().vkDeviceWaitIdle;
-        return callPI(device.address(), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, callPI(device.address(), __functionAddress));
     }
 
     // --- [ vkAllocateMemory ] ---
@@ -4559,7 +4590,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pAllocateInfo, pAllocator, pMemory, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPI(device.address(), pAllocateInfo, pAllocator, pMemory, __functionAddress));
     }
 
     /**
@@ -4655,7 +4687,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), memory, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -4722,7 +4756,8 @@ public class VK10 {
     /** Unsafe version of: {@link #vkMapMemory MapMemory} */
     public static int nvkMapMemory(VkDevice device, long memory, long offset, long size, int flags, long ppData) {
         long __functionAddress = device.getCapabilities().vkMapMemory;
-        return callPJJJPI(device.address(), memory, offset, size, flags, ppData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, callPJJJPI(device.address(), memory, offset, size, flags, ppData, __functionAddress));
     }
 
     /**
@@ -4855,7 +4890,9 @@ public class VK10 {
      */
     public static void vkUnmapMemory(VkDevice device, @NativeType("VkDeviceMemory") long memory) {
         long __functionAddress = device.getCapabilities().vkUnmapMemory;
+        long __start = FunctionProfiler.start();
         callPJV(device.address(), memory, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     // --- [ vkFlushMappedMemoryRanges ] ---
@@ -4867,7 +4904,8 @@ public class VK10 {
      */
     public static int nvkFlushMappedMemoryRanges(VkDevice device, int memoryRangeCount, long pMemoryRanges) {
         long __functionAddress = device.getCapabilities().vkFlushMappedMemoryRanges;
-        return callPPI(device.address(), memoryRangeCount, pMemoryRanges, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, callPPI(device.address(), memoryRangeCount, pMemoryRanges, __functionAddress));
     }
 
     /**
@@ -4998,7 +5036,8 @@ public class VK10 {
      */
     public static int nvkInvalidateMappedMemoryRanges(VkDevice device, int memoryRangeCount, long pMemoryRanges) {
         long __functionAddress = device.getCapabilities().vkInvalidateMappedMemoryRanges;
-        return callPPI(device.address(), memoryRangeCount, pMemoryRanges, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, callPPI(device.address(), memoryRangeCount, pMemoryRanges, __functionAddress));
     }
 
     /**
@@ -5121,7 +5160,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetDeviceMemoryCommitment GetDeviceMemoryCommitment} */
     public static void nvkGetDeviceMemoryCommitment(VkDevice device, long memory, long pCommittedMemoryInBytes) {
         long __functionAddress = device.getCapabilities().vkGetDeviceMemoryCommitment;
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), memory, pCommittedMemoryInBytes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -5245,7 +5286,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkBindBufferMemory(VkDevice device, @NativeType("VkBuffer") long buffer, @NativeType("VkDeviceMemory") long memory, @NativeType("VkDeviceSize") long memoryOffset) {
         long __functionAddress = device.getCapabilities().vkBindBufferMemory;
-        return callPJJJI(device.address(), buffer, memory, memoryOffset, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, callPJJJI(device.address(), buffer, memory, memoryOffset, __functionAddress));
     }
 
     // --- [ vkBindImageMemory ] ---
@@ -5326,7 +5368,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkBindImageMemory(VkDevice device, @NativeType("VkImage") long image, @NativeType("VkDeviceMemory") long memory, @NativeType("VkDeviceSize") long memoryOffset) {
         long __functionAddress = device.getCapabilities().vkBindImageMemory;
-        return callPJJJI(device.address(), image, memory, memoryOffset, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, callPJJJI(device.address(), image, memory, memoryOffset, __functionAddress));
     }
 
     // --- [ vkGetBufferMemoryRequirements ] ---
@@ -5334,7 +5377,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetBufferMemoryRequirements GetBufferMemoryRequirements} */
     public static void nvkGetBufferMemoryRequirements(VkDevice device, long buffer, long pMemoryRequirements) {
         long __functionAddress = device.getCapabilities().vkGetBufferMemoryRequirements;
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), buffer, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     /**
@@ -5376,7 +5421,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetImageMemoryRequirements GetImageMemoryRequirements} */
     public static void nvkGetImageMemoryRequirements(VkDevice device, long image, long pMemoryRequirements) {
         long __functionAddress = device.getCapabilities().vkGetImageMemoryRequirements;
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), image, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
     }
 
     /**
@@ -5428,7 +5475,9 @@ public class VK10 {
      */
     public static void nvkGetImageSparseMemoryRequirements(VkDevice device, long image, long pSparseMemoryRequirementCount, long pSparseMemoryRequirements) {
         long __functionAddress = device.getCapabilities().vkGetImageSparseMemoryRequirements;
+        long __start = FunctionProfiler.start();
         callPJPPV(device.address(), image, pSparseMemoryRequirementCount, pSparseMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /**
@@ -5492,7 +5541,9 @@ public class VK10 {
      */
     public static void nvkGetPhysicalDeviceSparseImageFormatProperties(VkPhysicalDevice physicalDevice, int format, int type, int samples, int usage, int tiling, long pPropertyCount, long pProperties) {
         long __functionAddress = physicalDevice.getCapabilities().vkGetPhysicalDeviceSparseImageFormatProperties;
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), format, type, samples, usage, tiling, pPropertyCount, pProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /**
@@ -5576,7 +5627,8 @@ public class VK10 {
         if (CHECKS) {
             if (pBindInfo != NULL) { VkBindSparseInfo.validate(pBindInfo, bindInfoCount); }
         }
-        return callPPJI(queue.address(), bindInfoCount, pBindInfo, fence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, callPPJI(queue.address(), bindInfoCount, pBindInfo, fence, __functionAddress));
     }
 
     /**
@@ -5765,7 +5817,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pFence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pFence, __functionAddress));
     }
 
     /**
@@ -5830,7 +5883,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), fence, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 36, __start);
     }
 
     /**
@@ -5890,7 +5945,8 @@ public class VK10 {
      */
     public static int nvkResetFences(VkDevice device, int fenceCount, long pFences) {
         long __functionAddress = device.getCapabilities().vkResetFences;
-        return callPPI(device.address(), fenceCount, pFences, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPI(device.address(), fenceCount, pFences, __functionAddress));
     }
 
     /**
@@ -6089,7 +6145,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkGetFenceStatus(VkDevice device, @NativeType("VkFence") long fence) {
         long __functionAddress = device.getCapabilities().vkGetFenceStatus;
-        return callPJI(device.address(), fence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, callPJI(device.address(), fence, __functionAddress));
     }
 
     // --- [ vkWaitForFences ] ---
@@ -6101,7 +6158,8 @@ public class VK10 {
      */
     public static int nvkWaitForFences(VkDevice device, int fenceCount, long pFences, int waitAll, long timeout) {
         long __functionAddress = device.getCapabilities().vkWaitForFences;
-        return callPPJI(device.address(), fenceCount, pFences, waitAll, timeout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPPJI(device.address(), fenceCount, pFences, waitAll, timeout, __functionAddress));
     }
 
     /**
@@ -6247,7 +6305,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pSemaphore, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pSemaphore, __functionAddress));
     }
 
     /**
@@ -6316,7 +6375,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), semaphore, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     /**
@@ -6375,7 +6436,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pEvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pEvent, __functionAddress));
     }
 
     /**
@@ -6444,7 +6506,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), event, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     /**
@@ -6557,7 +6621,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkGetEventStatus(VkDevice device, @NativeType("VkEvent") long event) {
         long __functionAddress = device.getCapabilities().vkGetEventStatus;
-        return callPJI(device.address(), event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, callPJI(device.address(), event, __functionAddress));
     }
 
     // --- [ vkSetEvent ] ---
@@ -6614,7 +6679,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkSetEvent(VkDevice device, @NativeType("VkEvent") long event) {
         long __functionAddress = device.getCapabilities().vkSetEvent;
-        return callPJI(device.address(), event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, callPJI(device.address(), event, __functionAddress));
     }
 
     // --- [ vkResetEvent ] ---
@@ -6677,7 +6743,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkResetEvent(VkDevice device, @NativeType("VkEvent") long event) {
         long __functionAddress = device.getCapabilities().vkResetEvent;
-        return callPJI(device.address(), event, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, callPJI(device.address(), event, __functionAddress));
     }
 
     // --- [ vkCreateQueryPool ] ---
@@ -6688,7 +6755,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pQueryPool, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pQueryPool, __functionAddress));
     }
 
     /**
@@ -6753,7 +6821,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), queryPool, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
     }
 
     /**
@@ -6813,7 +6883,8 @@ public class VK10 {
      */
     public static int nvkGetQueryPoolResults(VkDevice device, long queryPool, int firstQuery, int queryCount, long dataSize, long pData, long stride, int flags) {
         long __functionAddress = device.getCapabilities().vkGetQueryPoolResults;
-        return callPJPPJI(device.address(), queryPool, firstQuery, queryCount, dataSize, pData, stride, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPJPPJI(device.address(), queryPool, firstQuery, queryCount, dataSize, pData, stride, flags, __functionAddress));
     }
 
     /**
@@ -7143,7 +7214,8 @@ public class VK10 {
             VkBufferCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pBuffer, __functionAddress));
     }
 
     /**
@@ -7215,7 +7287,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), buffer, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     /**
@@ -7274,7 +7348,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pView, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pView, __functionAddress));
     }
 
     /**
@@ -7339,7 +7414,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), bufferView, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     /**
@@ -7399,7 +7476,8 @@ public class VK10 {
             VkImageCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pImage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pImage, __functionAddress));
     }
 
     /**
@@ -7470,7 +7548,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), image, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     /**
@@ -7526,7 +7606,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetImageSubresourceLayout GetImageSubresourceLayout} */
     public static void nvkGetImageSubresourceLayout(VkDevice device, long image, long pSubresource, long pLayout) {
         long __functionAddress = device.getCapabilities().vkGetImageSubresourceLayout;
+        long __start = FunctionProfiler.start();
         callPJPPV(device.address(), image, pSubresource, pLayout, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 56, __start);
     }
 
     /**
@@ -7594,7 +7676,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pView, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pView, __functionAddress));
     }
 
     /**
@@ -7659,7 +7742,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), imageView, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 58, __start);
     }
 
     /**
@@ -7719,7 +7804,8 @@ public class VK10 {
             VkShaderModuleCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pShaderModule, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pShaderModule, __functionAddress));
     }
 
     /**
@@ -7791,7 +7877,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), shaderModule, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 60, __start);
     }
 
     /**
@@ -7854,7 +7942,8 @@ public class VK10 {
             VkPipelineCacheCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pPipelineCache, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pPipelineCache, __functionAddress));
     }
 
     /**
@@ -7933,7 +8022,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), pipelineCache, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 62, __start);
     }
 
     /**
@@ -7992,7 +8083,8 @@ public class VK10 {
      */
     public static int nvkGetPipelineCacheData(VkDevice device, long pipelineCache, long pDataSize, long pData) {
         long __functionAddress = device.getCapabilities().vkGetPipelineCacheData;
-        return callPJPPI(device.address(), pipelineCache, pDataSize, pData, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, callPJPPI(device.address(), pipelineCache, pDataSize, pData, __functionAddress));
     }
 
     /**
@@ -8086,7 +8178,8 @@ public class VK10 {
      */
     public static int nvkMergePipelineCaches(VkDevice device, long dstCache, int srcCacheCount, long pSrcCaches) {
         long __functionAddress = device.getCapabilities().vkMergePipelineCaches;
-        return callPJPI(device.address(), dstCache, srcCacheCount, pSrcCaches, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, callPJPI(device.address(), dstCache, srcCacheCount, pSrcCaches, __functionAddress));
     }
 
     /**
@@ -8169,7 +8262,8 @@ public class VK10 {
             VkGraphicsPipelineCreateInfo.validate(pCreateInfos, createInfoCount);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPJPPPI(device.address(), pipelineCache, createInfoCount, pCreateInfos, pAllocator, pPipelines, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, callPJPPPI(device.address(), pipelineCache, createInfoCount, pCreateInfos, pAllocator, pPipelines, __functionAddress));
     }
 
     /**
@@ -8257,7 +8351,8 @@ public class VK10 {
             VkComputePipelineCreateInfo.validate(pCreateInfos, createInfoCount);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPJPPPI(device.address(), pipelineCache, createInfoCount, pCreateInfos, pAllocator, pPipelines, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, callPJPPPI(device.address(), pipelineCache, createInfoCount, pCreateInfos, pAllocator, pPipelines, __functionAddress));
     }
 
     /**
@@ -8336,7 +8431,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), pipeline, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     /**
@@ -8396,7 +8493,8 @@ public class VK10 {
             VkPipelineLayoutCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pPipelineLayout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pPipelineLayout, __functionAddress));
     }
 
     /**
@@ -8461,7 +8559,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), pipelineLayout, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
     }
 
     /**
@@ -8520,7 +8620,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pSampler, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pSampler, __functionAddress));
     }
 
     /**
@@ -8586,7 +8687,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), sampler, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     /**
@@ -8646,7 +8749,8 @@ public class VK10 {
             VkDescriptorSetLayoutCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pSetLayout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pSetLayout, __functionAddress));
     }
 
     /**
@@ -8711,7 +8815,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), descriptorSetLayout, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
     }
 
     /**
@@ -8770,7 +8876,8 @@ public class VK10 {
             VkDescriptorPoolCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pDescriptorPool, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pDescriptorPool, __functionAddress));
     }
 
     /**
@@ -8842,7 +8949,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), descriptorPool, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     /**
@@ -8959,7 +9068,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkResetDescriptorPool(VkDevice device, @NativeType("VkDescriptorPool") long descriptorPool, @NativeType("VkDescriptorPoolResetFlags") int flags) {
         long __functionAddress = device.getCapabilities().vkResetDescriptorPool;
-        return callPJI(device.address(), descriptorPool, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 76, __start, callPJI(device.address(), descriptorPool, flags, __functionAddress));
     }
 
     // --- [ vkAllocateDescriptorSets ] ---
@@ -8970,7 +9080,8 @@ public class VK10 {
         if (CHECKS) {
             VkDescriptorSetAllocateInfo.validate(pAllocateInfo);
         }
-        return callPPPI(device.address(), pAllocateInfo, pDescriptorSets, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, callPPPI(device.address(), pAllocateInfo, pDescriptorSets, __functionAddress));
     }
 
     /**
@@ -9063,7 +9174,8 @@ public class VK10 {
      */
     public static int nvkFreeDescriptorSets(VkDevice device, long descriptorPool, int descriptorSetCount, long pDescriptorSets) {
         long __functionAddress = device.getCapabilities().vkFreeDescriptorSets;
-        return callPJPI(device.address(), descriptorPool, descriptorSetCount, pDescriptorSets, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, callPJPI(device.address(), descriptorPool, descriptorSetCount, pDescriptorSets, __functionAddress));
     }
 
     /**
@@ -9215,7 +9327,9 @@ public class VK10 {
      */
     public static void nvkUpdateDescriptorSets(VkDevice device, int descriptorWriteCount, long pDescriptorWrites, int descriptorCopyCount, long pDescriptorCopies) {
         long __functionAddress = device.getCapabilities().vkUpdateDescriptorSets;
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), descriptorWriteCount, pDescriptorWrites, descriptorCopyCount, pDescriptorCopies, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     /**
@@ -9285,7 +9399,8 @@ public class VK10 {
             VkFramebufferCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pFramebuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pFramebuffer, __functionAddress));
     }
 
     /**
@@ -9356,7 +9471,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), framebuffer, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     /**
@@ -9416,7 +9533,8 @@ public class VK10 {
             VkRenderPassCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pRenderPass, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pRenderPass, __functionAddress));
     }
 
     /**
@@ -9481,7 +9599,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), renderPass, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     /**
@@ -9537,7 +9657,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkGetRenderAreaGranularity GetRenderAreaGranularity} */
     public static void nvkGetRenderAreaGranularity(VkDevice device, long renderPass, long pGranularity) {
         long __functionAddress = device.getCapabilities().vkGetRenderAreaGranularity;
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), renderPass, pGranularity, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     /**
@@ -9595,7 +9717,8 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pCommandPool, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 85, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pCommandPool, __functionAddress));
     }
 
     /**
@@ -9666,7 +9789,9 @@ public class VK10 {
         if (CHECKS) {
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), commandPool, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
     }
 
     /**
@@ -9786,7 +9911,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkResetCommandPool(VkDevice device, @NativeType("VkCommandPool") long commandPool, @NativeType("VkCommandPoolResetFlags") int flags) {
         long __functionAddress = device.getCapabilities().vkResetCommandPool;
-        return callPJI(device.address(), commandPool, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 87, __start, callPJI(device.address(), commandPool, flags, __functionAddress));
     }
 
     // --- [ vkAllocateCommandBuffers ] ---
@@ -9794,7 +9920,8 @@ public class VK10 {
     /** Unsafe version of: {@link #vkAllocateCommandBuffers AllocateCommandBuffers} */
     public static int nvkAllocateCommandBuffers(VkDevice device, long pAllocateInfo, long pCommandBuffers) {
         long __functionAddress = device.getCapabilities().vkAllocateCommandBuffers;
-        return callPPPI(device.address(), pAllocateInfo, pCommandBuffers, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 88, __start, callPPPI(device.address(), pAllocateInfo, pCommandBuffers, __functionAddress));
     }
 
     /**
@@ -9870,7 +9997,9 @@ public class VK10 {
      */
     public static void nvkFreeCommandBuffers(VkDevice device, long commandPool, int commandBufferCount, long pCommandBuffers) {
         long __functionAddress = device.getCapabilities().vkFreeCommandBuffers;
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), commandPool, commandBufferCount, pCommandBuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
     }
 
     /**
@@ -9983,7 +10112,8 @@ public class VK10 {
     /** Unsafe version of: {@link #vkBeginCommandBuffer BeginCommandBuffer} */
     public static int nvkBeginCommandBuffer(VkCommandBuffer commandBuffer, long pBeginInfo) {
         long __functionAddress = commandBuffer.getCapabilities().vkBeginCommandBuffer;
-        return callPPI(commandBuffer.address(), pBeginInfo, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 90, __start, callPPI(commandBuffer.address(), pBeginInfo, __functionAddress));
     }
 
     /**
@@ -10107,7 +10237,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkEndCommandBuffer(VkCommandBuffer commandBuffer) {
         long __functionAddress = commandBuffer.getCapabilities().vkEndCommandBuffer;
-        return callPI(commandBuffer.address(), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 91, __start, callPI(commandBuffer.address(), __functionAddress));
     }
 
     // --- [ vkResetCommandBuffer ] ---
@@ -10168,7 +10299,8 @@ public class VK10 {
     @NativeType("VkResult")
     public static int vkResetCommandBuffer(VkCommandBuffer commandBuffer, @NativeType("VkCommandBufferResetFlags") int flags) {
         long __functionAddress = commandBuffer.getCapabilities().vkResetCommandBuffer;
-        return callPI(commandBuffer.address(), flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 92, __start, callPI(commandBuffer.address(), flags, __functionAddress));
     }
 
     // --- [ vkCmdBindPipeline ] ---
@@ -10235,7 +10367,9 @@ public class VK10 {
      */
     public static void vkCmdBindPipeline(VkCommandBuffer commandBuffer, @NativeType("VkPipelineBindPoint") int pipelineBindPoint, @NativeType("VkPipeline") long pipeline) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBindPipeline;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), pipelineBindPoint, pipeline, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     // --- [ vkCmdSetViewport ] ---
@@ -10247,7 +10381,9 @@ public class VK10 {
      */
     public static void nvkCmdSetViewport(VkCommandBuffer commandBuffer, int firstViewport, int viewportCount, long pViewports) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetViewport;
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), firstViewport, viewportCount, pViewports, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     /**
@@ -10323,7 +10459,9 @@ public class VK10 {
      */
     public static void nvkCmdSetScissor(VkCommandBuffer commandBuffer, int firstScissor, int scissorCount, long pScissors) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetScissor;
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), firstScissor, scissorCount, pScissors, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
     }
 
     /**
@@ -10445,7 +10583,9 @@ public class VK10 {
      */
     public static void vkCmdSetLineWidth(VkCommandBuffer commandBuffer, float lineWidth) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetLineWidth;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), lineWidth, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     // --- [ vkCmdSetDepthBias ] ---
@@ -10539,7 +10679,9 @@ public class VK10 {
      */
     public static void vkCmdSetDepthBias(VkCommandBuffer commandBuffer, float depthBiasConstantFactor, float depthBiasClamp, float depthBiasSlopeFactor) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetDepthBias;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), depthBiasConstantFactor, depthBiasClamp, depthBiasSlopeFactor, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     // --- [ vkCmdSetBlendConstants ] ---
@@ -10547,7 +10689,9 @@ public class VK10 {
     /** Unsafe version of: {@link #vkCmdSetBlendConstants CmdSetBlendConstants} */
     public static void nvkCmdSetBlendConstants(VkCommandBuffer commandBuffer, long blendConstants) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetBlendConstants;
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), blendConstants, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     /**
@@ -10651,7 +10795,9 @@ public class VK10 {
      */
     public static void vkCmdSetDepthBounds(VkCommandBuffer commandBuffer, float minDepthBounds, float maxDepthBounds) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetDepthBounds;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), minDepthBounds, maxDepthBounds, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     // --- [ vkCmdSetStencilCompareMask ] ---
@@ -10705,7 +10851,9 @@ public class VK10 {
      */
     public static void vkCmdSetStencilCompareMask(VkCommandBuffer commandBuffer, @NativeType("VkStencilFaceFlags") int faceMask, @NativeType("uint32_t") int compareMask) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetStencilCompareMask;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), faceMask, compareMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 100, __start);
     }
 
     // --- [ vkCmdSetStencilWriteMask ] ---
@@ -10759,7 +10907,9 @@ public class VK10 {
      */
     public static void vkCmdSetStencilWriteMask(VkCommandBuffer commandBuffer, @NativeType("VkStencilFaceFlags") int faceMask, @NativeType("uint32_t") int writeMask) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetStencilWriteMask;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), faceMask, writeMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 101, __start);
     }
 
     // --- [ vkCmdSetStencilReference ] ---
@@ -10813,7 +10963,9 @@ public class VK10 {
      */
     public static void vkCmdSetStencilReference(VkCommandBuffer commandBuffer, @NativeType("VkStencilFaceFlags") int faceMask, @NativeType("uint32_t") int reference) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetStencilReference;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), faceMask, reference, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 102, __start);
     }
 
     // --- [ vkCmdBindDescriptorSets ] ---
@@ -10826,7 +10978,9 @@ public class VK10 {
      */
     public static void nvkCmdBindDescriptorSets(VkCommandBuffer commandBuffer, int pipelineBindPoint, long layout, int firstSet, int descriptorSetCount, long pDescriptorSets, int dynamicOffsetCount, long pDynamicOffsets) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBindDescriptorSets;
+        long __start = FunctionProfiler.start();
         callPJPPV(commandBuffer.address(), pipelineBindPoint, layout, firstSet, descriptorSetCount, pDescriptorSets, dynamicOffsetCount, pDynamicOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     /**
@@ -10982,7 +11136,9 @@ public class VK10 {
      */
     public static void vkCmdBindIndexBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long buffer, @NativeType("VkDeviceSize") long offset, @NativeType("VkIndexType") int indexType) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBindIndexBuffer;
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), buffer, offset, indexType, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 104, __start);
     }
 
     // --- [ vkCmdBindVertexBuffers ] ---
@@ -10994,7 +11150,9 @@ public class VK10 {
      */
     public static void nvkCmdBindVertexBuffers(VkCommandBuffer commandBuffer, int firstBinding, int bindingCount, long pBuffers, long pOffsets) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBindVertexBuffers;
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), firstBinding, bindingCount, pBuffers, pOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     /**
@@ -11148,7 +11306,9 @@ public class VK10 {
      */
     public static void vkCmdDraw(VkCommandBuffer commandBuffer, @NativeType("uint32_t") int vertexCount, @NativeType("uint32_t") int instanceCount, @NativeType("uint32_t") int firstVertex, @NativeType("uint32_t") int firstInstance) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdDraw;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), vertexCount, instanceCount, firstVertex, firstInstance, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 106, __start);
     }
 
     // --- [ vkCmdDrawIndexed ] ---
@@ -11242,7 +11402,9 @@ public class VK10 {
      */
     public static void vkCmdDrawIndexed(VkCommandBuffer commandBuffer, @NativeType("uint32_t") int indexCount, @NativeType("uint32_t") int instanceCount, @NativeType("uint32_t") int firstIndex, @NativeType("int32_t") int vertexOffset, @NativeType("uint32_t") int firstInstance) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdDrawIndexed;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), indexCount, instanceCount, firstIndex, vertexOffset, firstInstance, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 107, __start);
     }
 
     // --- [ vkCmdDrawIndirect ] ---
@@ -11339,7 +11501,9 @@ public class VK10 {
      */
     public static void vkCmdDrawIndirect(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long buffer, @NativeType("VkDeviceSize") long offset, @NativeType("uint32_t") int drawCount, @NativeType("uint32_t") int stride) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdDrawIndirect;
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), buffer, offset, drawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 108, __start);
     }
 
     // --- [ vkCmdDrawIndexedIndirect ] ---
@@ -11436,7 +11600,9 @@ public class VK10 {
      */
     public static void vkCmdDrawIndexedIndirect(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long buffer, @NativeType("VkDeviceSize") long offset, @NativeType("uint32_t") int drawCount, @NativeType("uint32_t") int stride) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdDrawIndexedIndirect;
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), buffer, offset, drawCount, stride, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 109, __start);
     }
 
     // --- [ vkCmdDispatch ] ---
@@ -11516,7 +11682,9 @@ public class VK10 {
      */
     public static void vkCmdDispatch(VkCommandBuffer commandBuffer, @NativeType("uint32_t") int groupCountX, @NativeType("uint32_t") int groupCountY, @NativeType("uint32_t") int groupCountZ) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdDispatch;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), groupCountX, groupCountY, groupCountZ, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 110, __start);
     }
 
     // --- [ vkCmdDispatchIndirect ] ---
@@ -11596,7 +11764,9 @@ public class VK10 {
      */
     public static void vkCmdDispatchIndirect(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long buffer, @NativeType("VkDeviceSize") long offset) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdDispatchIndirect;
+        long __start = FunctionProfiler.start();
         callPJJV(commandBuffer.address(), buffer, offset, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 111, __start);
     }
 
     // --- [ vkCmdCopyBuffer ] ---
@@ -11608,7 +11778,9 @@ public class VK10 {
      */
     public static void nvkCmdCopyBuffer(VkCommandBuffer commandBuffer, long srcBuffer, long dstBuffer, int regionCount, long pRegions) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdCopyBuffer;
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), srcBuffer, dstBuffer, regionCount, pRegions, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 112, __start);
     }
 
     /**
@@ -11697,7 +11869,9 @@ public class VK10 {
      */
     public static void nvkCmdCopyImage(VkCommandBuffer commandBuffer, long srcImage, int srcImageLayout, long dstImage, int dstImageLayout, int regionCount, long pRegions) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdCopyImage;
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), srcImage, srcImageLayout, dstImage, dstImageLayout, regionCount, pRegions, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     /**
@@ -11842,7 +12016,9 @@ public class VK10 {
      */
     public static void nvkCmdBlitImage(VkCommandBuffer commandBuffer, long srcImage, int srcImageLayout, long dstImage, int dstImageLayout, int regionCount, long pRegions, int filter) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBlitImage;
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), srcImage, srcImageLayout, dstImage, dstImageLayout, regionCount, pRegions, filter, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     /**
@@ -12027,7 +12203,9 @@ public class VK10 {
      */
     public static void nvkCmdCopyBufferToImage(VkCommandBuffer commandBuffer, long srcBuffer, long dstImage, int dstImageLayout, int regionCount, long pRegions) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdCopyBufferToImage;
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), srcBuffer, dstImage, dstImageLayout, regionCount, pRegions, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     /**
@@ -12127,7 +12305,9 @@ public class VK10 {
      */
     public static void nvkCmdCopyImageToBuffer(VkCommandBuffer commandBuffer, long srcImage, int srcImageLayout, long dstBuffer, int regionCount, long pRegions) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdCopyImageToBuffer;
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), srcImage, srcImageLayout, dstBuffer, regionCount, pRegions, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     /**
@@ -12227,7 +12407,9 @@ public class VK10 {
      */
     public static void nvkCmdUpdateBuffer(VkCommandBuffer commandBuffer, long dstBuffer, long dstOffset, long dataSize, long pData) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdUpdateBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJPV(commandBuffer.address(), dstBuffer, dstOffset, dataSize, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /**
@@ -12790,7 +12972,9 @@ public class VK10 {
      */
     public static void vkCmdFillBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("VkDeviceSize") long size, @NativeType("uint32_t") int data) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdFillBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJV(commandBuffer.address(), dstBuffer, dstOffset, size, data, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     // --- [ vkCmdClearColorImage ] ---
@@ -12802,7 +12986,9 @@ public class VK10 {
      */
     public static void nvkCmdClearColorImage(VkCommandBuffer commandBuffer, long image, int imageLayout, long pColor, int rangeCount, long pRanges) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdClearColorImage;
+        long __start = FunctionProfiler.start();
         callPJPPV(commandBuffer.address(), image, imageLayout, pColor, rangeCount, pRanges, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     /**
@@ -12977,7 +13163,9 @@ public class VK10 {
      */
     public static void nvkCmdClearDepthStencilImage(VkCommandBuffer commandBuffer, long image, int imageLayout, long pDepthStencil, int rangeCount, long pRanges) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdClearDepthStencilImage;
+        long __start = FunctionProfiler.start();
         callPJPPV(commandBuffer.address(), image, imageLayout, pDepthStencil, rangeCount, pRanges, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     /**
@@ -13149,7 +13337,9 @@ public class VK10 {
      */
     public static void nvkCmdClearAttachments(VkCommandBuffer commandBuffer, int attachmentCount, long pAttachments, int rectCount, long pRects) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdClearAttachments;
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), attachmentCount, pAttachments, rectCount, pRects, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 121, __start);
     }
 
     /**
@@ -13239,7 +13429,9 @@ public class VK10 {
      */
     public static void nvkCmdResolveImage(VkCommandBuffer commandBuffer, long srcImage, int srcImageLayout, long dstImage, int dstImageLayout, int regionCount, long pRegions) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdResolveImage;
+        long __start = FunctionProfiler.start();
         callPJJPV(commandBuffer.address(), srcImage, srcImageLayout, dstImage, dstImageLayout, regionCount, pRegions, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     /**
@@ -13502,7 +13694,9 @@ public class VK10 {
      */
     public static void vkCmdSetEvent(VkCommandBuffer commandBuffer, @NativeType("VkEvent") long event, @NativeType("VkPipelineStageFlags") int stageMask) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdSetEvent;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), event, stageMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 123, __start);
     }
 
     // --- [ vkCmdResetEvent ] ---
@@ -13575,7 +13769,9 @@ public class VK10 {
      */
     public static void vkCmdResetEvent(VkCommandBuffer commandBuffer, @NativeType("VkEvent") long event, @NativeType("VkPipelineStageFlags") int stageMask) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdResetEvent;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), event, stageMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 124, __start);
     }
 
     // --- [ vkCmdWaitEvents ] ---
@@ -13590,7 +13786,9 @@ public class VK10 {
      */
     public static void nvkCmdWaitEvents(VkCommandBuffer commandBuffer, int eventCount, long pEvents, int srcStageMask, int dstStageMask, int memoryBarrierCount, long pMemoryBarriers, int bufferMemoryBarrierCount, long pBufferMemoryBarriers, int imageMemoryBarrierCount, long pImageMemoryBarriers) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdWaitEvents;
+        long __start = FunctionProfiler.start();
         callPPPPPV(commandBuffer.address(), eventCount, pEvents, srcStageMask, dstStageMask, memoryBarrierCount, pMemoryBarriers, bufferMemoryBarrierCount, pBufferMemoryBarriers, imageMemoryBarrierCount, pImageMemoryBarriers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     /**
@@ -13714,7 +13912,9 @@ public class VK10 {
      */
     public static void nvkCmdPipelineBarrier(VkCommandBuffer commandBuffer, int srcStageMask, int dstStageMask, int dependencyFlags, int memoryBarrierCount, long pMemoryBarriers, int bufferMemoryBarrierCount, long pBufferMemoryBarriers, int imageMemoryBarrierCount, long pImageMemoryBarriers) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPipelineBarrier;
+        long __start = FunctionProfiler.start();
         callPPPPV(commandBuffer.address(), srcStageMask, dstStageMask, dependencyFlags, memoryBarrierCount, pMemoryBarriers, bufferMemoryBarrierCount, pBufferMemoryBarriers, imageMemoryBarrierCount, pImageMemoryBarriers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     /**
@@ -13892,7 +14092,9 @@ public class VK10 {
      */
     public static void vkCmdBeginQuery(VkCommandBuffer commandBuffer, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int query, @NativeType("VkQueryControlFlags") int flags) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBeginQuery;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), queryPool, query, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 127, __start);
     }
 
     // --- [ vkCmdEndQuery ] ---
@@ -13957,7 +14159,9 @@ public class VK10 {
      */
     public static void vkCmdEndQuery(VkCommandBuffer commandBuffer, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int query) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdEndQuery;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), queryPool, query, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 128, __start);
     }
 
     // --- [ vkCmdResetQueryPool ] ---
@@ -14019,7 +14223,9 @@ public class VK10 {
      */
     public static void vkCmdResetQueryPool(VkCommandBuffer commandBuffer, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int firstQuery, @NativeType("uint32_t") int queryCount) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdResetQueryPool;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), queryPool, firstQuery, queryCount, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 129, __start);
     }
 
     // --- [ vkCmdWriteTimestamp ] ---
@@ -14109,7 +14315,9 @@ public class VK10 {
      */
     public static void vkCmdWriteTimestamp(VkCommandBuffer commandBuffer, @NativeType("VkPipelineStageFlagBits") int pipelineStage, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int query) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdWriteTimestamp;
+        long __start = FunctionProfiler.start();
         callPJV(commandBuffer.address(), pipelineStage, queryPool, query, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 130, __start);
     }
 
     // --- [ vkCmdCopyQueryPoolResults ] ---
@@ -14205,7 +14413,9 @@ public class VK10 {
      */
     public static void vkCmdCopyQueryPoolResults(VkCommandBuffer commandBuffer, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int firstQuery, @NativeType("uint32_t") int queryCount, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("VkDeviceSize") long stride, @NativeType("VkQueryResultFlags") int flags) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdCopyQueryPoolResults;
+        long __start = FunctionProfiler.start();
         callPJJJJV(commandBuffer.address(), queryPool, firstQuery, queryCount, dstBuffer, dstOffset, stride, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 131, __start);
     }
 
     // --- [ vkCmdPushConstants ] ---
@@ -14217,7 +14427,9 @@ public class VK10 {
      */
     public static void nvkCmdPushConstants(VkCommandBuffer commandBuffer, long layout, int stageFlags, int offset, int size, long pValues) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPushConstants;
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), layout, stageFlags, offset, size, pValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     /**
@@ -14660,7 +14872,9 @@ public class VK10 {
         if (CHECKS) {
             VkRenderPassBeginInfo.validate(pRenderPassBegin);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), pRenderPassBegin, contents, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 133, __start);
     }
 
     /**
@@ -14790,7 +15004,9 @@ public class VK10 {
      */
     public static void vkCmdNextSubpass(VkCommandBuffer commandBuffer, @NativeType("VkSubpassContents") int contents) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdNextSubpass;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), contents, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 134, __start);
     }
 
     // --- [ vkCmdEndRenderPass ] ---
@@ -14845,7 +15061,9 @@ public class VK10 {
      */
     public static void vkCmdEndRenderPass(VkCommandBuffer commandBuffer) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdEndRenderPass;
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 135, __start);
     }
 
     // --- [ vkCmdExecuteCommands ] ---
@@ -14857,7 +15075,9 @@ public class VK10 {
      */
     public static void nvkCmdExecuteCommands(VkCommandBuffer commandBuffer, int commandBufferCount, long pCommandBuffers) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdExecuteCommands;
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), commandBufferCount, pCommandBuffers, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 136, __start);
     }
 
     /**
@@ -15079,7 +15299,8 @@ public class VK10 {
             check(pPhysicalDeviceCount, 1);
             checkSafe(pPhysicalDevices, pPhysicalDeviceCount[0]);
         }
-        return callPPPI(instance.address(), pPhysicalDeviceCount, memAddressSafe(pPhysicalDevices), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPPI(instance.address(), pPhysicalDeviceCount, memAddressSafe(pPhysicalDevices), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceQueueFamilyProperties GetPhysicalDeviceQueueFamilyProperties} */
@@ -15089,7 +15310,9 @@ public class VK10 {
             check(pQueueFamilyPropertyCount, 1);
             checkSafe(pQueueFamilyProperties, pQueueFamilyPropertyCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pQueueFamilyPropertyCount, memAddressSafe(pQueueFamilyProperties), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /** Array version of: {@link #vkEnumerateInstanceExtensionProperties EnumerateInstanceExtensionProperties} */
@@ -15101,7 +15324,8 @@ public class VK10 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(memAddressSafe(pLayerName), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(memAddressSafe(pLayerName), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkEnumerateInstanceExtensionProperties EnumerateInstanceExtensionProperties} */
@@ -15116,7 +15340,8 @@ public class VK10 {
         try {
             stack.nUTF8Safe(pLayerName, true);
             long pLayerNameEncoded = pLayerName == null ? NULL : stack.getPointerAddress();
-            return callPPPI(pLayerNameEncoded, pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(pLayerNameEncoded, pPropertyCount, memAddressSafe(pProperties), __functionAddress));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -15131,7 +15356,8 @@ public class VK10 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPPI(physicalDevice.address(), memAddressSafe(pLayerName), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPI(physicalDevice.address(), memAddressSafe(pLayerName), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkEnumerateDeviceExtensionProperties EnumerateDeviceExtensionProperties} */
@@ -15146,7 +15372,8 @@ public class VK10 {
         try {
             stack.nUTF8Safe(pLayerName, true);
             long pLayerNameEncoded = pLayerName == null ? NULL : stack.getPointerAddress();
-            return callPPPPI(physicalDevice.address(), pLayerNameEncoded, pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+            long __start = FunctionProfiler.start();
+            return FunctionProfiler.end(PROFILE_ID + 14, __start, callPPPPI(physicalDevice.address(), pLayerNameEncoded, pPropertyCount, memAddressSafe(pProperties), __functionAddress));
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -15160,7 +15387,8 @@ public class VK10 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPI(pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, callPPI(pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkEnumerateDeviceLayerProperties EnumerateDeviceLayerProperties} */
@@ -15171,7 +15399,8 @@ public class VK10 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
-        return callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, callPPPI(physicalDevice.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkAllocateMemory AllocateMemory} */
@@ -15182,7 +15411,8 @@ public class VK10 {
             check(pMemory, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pAllocateInfo.address(), memAddressSafe(pAllocator), pMemory, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPI(device.address(), pAllocateInfo.address(), memAddressSafe(pAllocator), pMemory, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDeviceMemoryCommitment GetDeviceMemoryCommitment} */
@@ -15191,7 +15421,9 @@ public class VK10 {
         if (CHECKS) {
             check(pCommittedMemoryInBytes, 1);
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), memory, pCommittedMemoryInBytes, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /** Array version of: {@link #vkGetImageSparseMemoryRequirements GetImageSparseMemoryRequirements} */
@@ -15201,7 +15433,9 @@ public class VK10 {
             check(pSparseMemoryRequirementCount, 1);
             checkSafe(pSparseMemoryRequirements, pSparseMemoryRequirementCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPJPPV(device.address(), image, pSparseMemoryRequirementCount, memAddressSafe(pSparseMemoryRequirements), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceSparseImageFormatProperties GetPhysicalDeviceSparseImageFormatProperties} */
@@ -15211,7 +15445,9 @@ public class VK10 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), format, type, samples, usage, tiling, pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 33, __start);
     }
 
     /** Array version of: {@link #vkCreateFence CreateFence} */
@@ -15222,21 +15458,24 @@ public class VK10 {
             check(pFence, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pFence, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pFence, __functionAddress));
     }
 
     /** Array version of: {@link #vkResetFences ResetFences} */
     @NativeType("VkResult")
     public static int vkResetFences(VkDevice device, @NativeType("VkFence const *") long[] pFences) {
         long __functionAddress = device.getCapabilities().vkResetFences;
-        return callPPI(device.address(), pFences.length, pFences, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, callPPI(device.address(), pFences.length, pFences, __functionAddress));
     }
 
     /** Array version of: {@link #vkWaitForFences WaitForFences} */
     @NativeType("VkResult")
     public static int vkWaitForFences(VkDevice device, @NativeType("VkFence const *") long[] pFences, @NativeType("VkBool32") boolean waitAll, @NativeType("uint64_t") long timeout) {
         long __functionAddress = device.getCapabilities().vkWaitForFences;
-        return callPPJI(device.address(), pFences.length, pFences, waitAll ? 1 : 0, timeout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, callPPJI(device.address(), pFences.length, pFences, waitAll ? 1 : 0, timeout, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateSemaphore CreateSemaphore} */
@@ -15247,7 +15486,8 @@ public class VK10 {
             check(pSemaphore, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSemaphore, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSemaphore, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateEvent CreateEvent} */
@@ -15258,7 +15498,8 @@ public class VK10 {
             check(pEvent, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pEvent, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pEvent, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateQueryPool CreateQueryPool} */
@@ -15269,21 +15510,24 @@ public class VK10 {
             check(pQueryPool, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pQueryPool, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pQueryPool, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetQueryPoolResults GetQueryPoolResults} */
     @NativeType("VkResult")
     public static int vkGetQueryPoolResults(VkDevice device, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int firstQuery, @NativeType("uint32_t") int queryCount, @NativeType("void *") int[] pData, @NativeType("VkDeviceSize") long stride, @NativeType("VkQueryResultFlags") int flags) {
         long __functionAddress = device.getCapabilities().vkGetQueryPoolResults;
-        return callPJPPJI(device.address(), queryPool, firstQuery, queryCount, Integer.toUnsignedLong(pData.length) << 2, pData, stride, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPJPPJI(device.address(), queryPool, firstQuery, queryCount, Integer.toUnsignedLong(pData.length) << 2, pData, stride, flags, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetQueryPoolResults GetQueryPoolResults} */
     @NativeType("VkResult")
     public static int vkGetQueryPoolResults(VkDevice device, @NativeType("VkQueryPool") long queryPool, @NativeType("uint32_t") int firstQuery, @NativeType("uint32_t") int queryCount, @NativeType("void *") long[] pData, @NativeType("VkDeviceSize") long stride, @NativeType("VkQueryResultFlags") int flags) {
         long __functionAddress = device.getCapabilities().vkGetQueryPoolResults;
-        return callPJPPJI(device.address(), queryPool, firstQuery, queryCount, Integer.toUnsignedLong(pData.length) << 3, pData, stride, flags, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, callPJPPJI(device.address(), queryPool, firstQuery, queryCount, Integer.toUnsignedLong(pData.length) << 3, pData, stride, flags, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateBuffer CreateBuffer} */
@@ -15295,7 +15539,8 @@ public class VK10 {
             VkBufferCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pBuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pBuffer, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateBufferView CreateBufferView} */
@@ -15306,7 +15551,8 @@ public class VK10 {
             check(pView, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pView, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pView, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateImage CreateImage} */
@@ -15318,7 +15564,8 @@ public class VK10 {
             VkImageCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pImage, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pImage, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateImageView CreateImageView} */
@@ -15329,7 +15576,8 @@ public class VK10 {
             check(pView, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pView, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pView, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateShaderModule CreateShaderModule} */
@@ -15341,7 +15589,8 @@ public class VK10 {
             VkShaderModuleCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pShaderModule, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pShaderModule, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreatePipelineCache CreatePipelineCache} */
@@ -15353,14 +15602,16 @@ public class VK10 {
             VkPipelineCacheCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pPipelineCache, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pPipelineCache, __functionAddress));
     }
 
     /** Array version of: {@link #vkMergePipelineCaches MergePipelineCaches} */
     @NativeType("VkResult")
     public static int vkMergePipelineCaches(VkDevice device, @NativeType("VkPipelineCache") long dstCache, @NativeType("VkPipelineCache const *") long[] pSrcCaches) {
         long __functionAddress = device.getCapabilities().vkMergePipelineCaches;
-        return callPJPI(device.address(), dstCache, pSrcCaches.length, pSrcCaches, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, callPJPI(device.address(), dstCache, pSrcCaches.length, pSrcCaches, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateGraphicsPipelines CreateGraphicsPipelines} */
@@ -15372,7 +15623,8 @@ public class VK10 {
             VkGraphicsPipelineCreateInfo.validate(pCreateInfos.address(), pCreateInfos.remaining());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPJPPPI(device.address(), pipelineCache, pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pPipelines, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 65, __start, callPJPPPI(device.address(), pipelineCache, pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pPipelines, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateComputePipelines CreateComputePipelines} */
@@ -15384,7 +15636,8 @@ public class VK10 {
             VkComputePipelineCreateInfo.validate(pCreateInfos.address(), pCreateInfos.remaining());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPJPPPI(device.address(), pipelineCache, pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pPipelines, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, callPJPPPI(device.address(), pipelineCache, pCreateInfos.remaining(), pCreateInfos.address(), memAddressSafe(pAllocator), pPipelines, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreatePipelineLayout CreatePipelineLayout} */
@@ -15396,7 +15649,8 @@ public class VK10 {
             VkPipelineLayoutCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pPipelineLayout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pPipelineLayout, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateSampler CreateSampler} */
@@ -15407,7 +15661,8 @@ public class VK10 {
             check(pSampler, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSampler, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSampler, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateDescriptorSetLayout CreateDescriptorSetLayout} */
@@ -15419,7 +15674,8 @@ public class VK10 {
             VkDescriptorSetLayoutCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSetLayout, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 72, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pSetLayout, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateDescriptorPool CreateDescriptorPool} */
@@ -15431,7 +15687,8 @@ public class VK10 {
             VkDescriptorPoolCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pDescriptorPool, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 74, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pDescriptorPool, __functionAddress));
     }
 
     /** Array version of: {@link #vkAllocateDescriptorSets AllocateDescriptorSets} */
@@ -15442,14 +15699,16 @@ public class VK10 {
             check(pDescriptorSets, pAllocateInfo.descriptorSetCount());
             VkDescriptorSetAllocateInfo.validate(pAllocateInfo.address());
         }
-        return callPPPI(device.address(), pAllocateInfo.address(), pDescriptorSets, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 77, __start, callPPPI(device.address(), pAllocateInfo.address(), pDescriptorSets, __functionAddress));
     }
 
     /** Array version of: {@link #vkFreeDescriptorSets FreeDescriptorSets} */
     @NativeType("VkResult")
     public static int vkFreeDescriptorSets(VkDevice device, @NativeType("VkDescriptorPool") long descriptorPool, @NativeType("VkDescriptorSet const *") long[] pDescriptorSets) {
         long __functionAddress = device.getCapabilities().vkFreeDescriptorSets;
-        return callPJPI(device.address(), descriptorPool, pDescriptorSets.length, pDescriptorSets, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, callPJPI(device.address(), descriptorPool, pDescriptorSets.length, pDescriptorSets, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateFramebuffer CreateFramebuffer} */
@@ -15461,7 +15720,8 @@ public class VK10 {
             VkFramebufferCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pFramebuffer, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 80, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pFramebuffer, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateRenderPass CreateRenderPass} */
@@ -15473,7 +15733,8 @@ public class VK10 {
             VkRenderPassCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pRenderPass, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 82, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pRenderPass, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateCommandPool CreateCommandPool} */
@@ -15484,7 +15745,8 @@ public class VK10 {
             check(pCommandPool, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pCommandPool, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 85, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pCommandPool, __functionAddress));
     }
 
     /** Array version of: {@link #vkCmdSetBlendConstants CmdSetBlendConstants} */
@@ -15493,13 +15755,17 @@ public class VK10 {
         if (CHECKS) {
             check(blendConstants, 4);
         }
+        long __start = FunctionProfiler.start();
         callPPV(commandBuffer.address(), blendConstants, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
     }
 
     /** Array version of: {@link #vkCmdBindDescriptorSets CmdBindDescriptorSets} */
     public static void vkCmdBindDescriptorSets(VkCommandBuffer commandBuffer, @NativeType("VkPipelineBindPoint") int pipelineBindPoint, @NativeType("VkPipelineLayout") long layout, @NativeType("uint32_t") int firstSet, @NativeType("VkDescriptorSet const *") long[] pDescriptorSets, @Nullable @NativeType("uint32_t const *") int[] pDynamicOffsets) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdBindDescriptorSets;
+        long __start = FunctionProfiler.start();
         callPJPPV(commandBuffer.address(), pipelineBindPoint, layout, firstSet, pDescriptorSets.length, pDescriptorSets, lengthSafe(pDynamicOffsets), pDynamicOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 103, __start);
     }
 
     /** Array version of: {@link #vkCmdBindVertexBuffers CmdBindVertexBuffers} */
@@ -15508,73 +15774,97 @@ public class VK10 {
         if (CHECKS) {
             check(pOffsets, pBuffers.length);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(commandBuffer.address(), firstBinding, pBuffers.length, pBuffers, pOffsets, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 105, __start);
     }
 
     /** Array version of: {@link #vkCmdUpdateBuffer CmdUpdateBuffer} */
     public static void vkCmdUpdateBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("void const *") short[] pData) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdUpdateBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJPV(commandBuffer.address(), dstBuffer, dstOffset, Integer.toUnsignedLong(pData.length) << 1, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /** Array version of: {@link #vkCmdUpdateBuffer CmdUpdateBuffer} */
     public static void vkCmdUpdateBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("void const *") int[] pData) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdUpdateBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJPV(commandBuffer.address(), dstBuffer, dstOffset, Integer.toUnsignedLong(pData.length) << 2, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /** Array version of: {@link #vkCmdUpdateBuffer CmdUpdateBuffer} */
     public static void vkCmdUpdateBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("void const *") long[] pData) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdUpdateBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJPV(commandBuffer.address(), dstBuffer, dstOffset, Integer.toUnsignedLong(pData.length) << 3, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /** Array version of: {@link #vkCmdUpdateBuffer CmdUpdateBuffer} */
     public static void vkCmdUpdateBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("void const *") float[] pData) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdUpdateBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJPV(commandBuffer.address(), dstBuffer, dstOffset, Integer.toUnsignedLong(pData.length) << 2, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /** Array version of: {@link #vkCmdUpdateBuffer CmdUpdateBuffer} */
     public static void vkCmdUpdateBuffer(VkCommandBuffer commandBuffer, @NativeType("VkBuffer") long dstBuffer, @NativeType("VkDeviceSize") long dstOffset, @NativeType("void const *") double[] pData) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdUpdateBuffer;
+        long __start = FunctionProfiler.start();
         callPJJJPV(commandBuffer.address(), dstBuffer, dstOffset, Integer.toUnsignedLong(pData.length) << 3, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     /** Array version of: {@link #vkCmdWaitEvents CmdWaitEvents} */
     public static void vkCmdWaitEvents(VkCommandBuffer commandBuffer, @NativeType("VkEvent const *") long[] pEvents, @NativeType("VkPipelineStageFlags") int srcStageMask, @NativeType("VkPipelineStageFlags") int dstStageMask, @Nullable @NativeType("VkMemoryBarrier const *") VkMemoryBarrier.Buffer pMemoryBarriers, @Nullable @NativeType("VkBufferMemoryBarrier const *") VkBufferMemoryBarrier.Buffer pBufferMemoryBarriers, @Nullable @NativeType("VkImageMemoryBarrier const *") VkImageMemoryBarrier.Buffer pImageMemoryBarriers) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdWaitEvents;
+        long __start = FunctionProfiler.start();
         callPPPPPV(commandBuffer.address(), pEvents.length, pEvents, srcStageMask, dstStageMask, remainingSafe(pMemoryBarriers), memAddressSafe(pMemoryBarriers), remainingSafe(pBufferMemoryBarriers), memAddressSafe(pBufferMemoryBarriers), remainingSafe(pImageMemoryBarriers), memAddressSafe(pImageMemoryBarriers), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 125, __start);
     }
 
     /** Array version of: {@link #vkCmdPushConstants CmdPushConstants} */
     public static void vkCmdPushConstants(VkCommandBuffer commandBuffer, @NativeType("VkPipelineLayout") long layout, @NativeType("VkShaderStageFlags") int stageFlags, @NativeType("uint32_t") int offset, @NativeType("void const *") short[] pValues) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPushConstants;
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), layout, stageFlags, offset, pValues.length << 1, pValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     /** Array version of: {@link #vkCmdPushConstants CmdPushConstants} */
     public static void vkCmdPushConstants(VkCommandBuffer commandBuffer, @NativeType("VkPipelineLayout") long layout, @NativeType("VkShaderStageFlags") int stageFlags, @NativeType("uint32_t") int offset, @NativeType("void const *") int[] pValues) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPushConstants;
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), layout, stageFlags, offset, pValues.length << 2, pValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     /** Array version of: {@link #vkCmdPushConstants CmdPushConstants} */
     public static void vkCmdPushConstants(VkCommandBuffer commandBuffer, @NativeType("VkPipelineLayout") long layout, @NativeType("VkShaderStageFlags") int stageFlags, @NativeType("uint32_t") int offset, @NativeType("void const *") long[] pValues) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPushConstants;
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), layout, stageFlags, offset, pValues.length << 3, pValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     /** Array version of: {@link #vkCmdPushConstants CmdPushConstants} */
     public static void vkCmdPushConstants(VkCommandBuffer commandBuffer, @NativeType("VkPipelineLayout") long layout, @NativeType("VkShaderStageFlags") int stageFlags, @NativeType("uint32_t") int offset, @NativeType("void const *") float[] pValues) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPushConstants;
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), layout, stageFlags, offset, pValues.length << 2, pValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
     /** Array version of: {@link #vkCmdPushConstants CmdPushConstants} */
     public static void vkCmdPushConstants(VkCommandBuffer commandBuffer, @NativeType("VkPipelineLayout") long layout, @NativeType("VkShaderStageFlags") int stageFlags, @NativeType("uint32_t") int offset, @NativeType("void const *") double[] pValues) {
         long __functionAddress = commandBuffer.getCapabilities().vkCmdPushConstants;
+        long __start = FunctionProfiler.start();
         callPJPV(commandBuffer.address(), layout, stageFlags, offset, pValues.length << 3, pValues, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 132, __start);
     }
 
 }
\ No newline at end of file
@@ -1068,6 +1068,8 @@ public class VK11 extends VK10 {
         VK_QUEUE_FAMILY_EXTERNAL = (~0-1),
         VK_MAX_DEVICE_GROUP_SIZE = 32;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(VK11.class, "vkEnumerateInstanceVersion,vkBindBufferMemory2,vkBindImageMemory2,vkGetDeviceGroupPeerMemoryFeatures,vkCmdSetDeviceMask,vkCmdDispatchBase,vkEnumeratePhysicalDeviceGroups,vkGetImageMemoryRequirements2,vkGetBufferMemoryRequirements2,vkGetImageSparseMemoryRequirements2,vkGetPhysicalDeviceFeatures2,vkGetPhysicalDeviceProperties2,vkGetPhysicalDeviceFormatProperties2,vkGetPhysicalDeviceImageFormatProperties2,vkGetPhysicalDeviceQueueFamilyProperties2,vkGetPhysicalDeviceMemoryProperties2,vkGetPhysicalDeviceSparseImageFormatProperties2,vkTrimCommandPool,vkGetDeviceQueue2,vkCreateSamplerYcbcrConversion,vkDestroySamplerYcbcrConversion,vkCreateDescriptorUpdateTemplate,vkDestroyDescriptorUpdateTemplate,vkUpdateDescriptorSetWithTemplate,vkGetPhysicalDeviceExternalBufferProperties,vkGetPhysicalDeviceExternalFenceProperties,vkGetPhysicalDeviceExternalSemaphoreProperties,vkGetDescriptorSetLayoutSupport");
+
     protected VK11() {
         throw new UnsupportedOperationException();
     }
@@ -1117,7 +1119,8 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPI(pApiVersion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pApiVersion, __functionAddress));
     }
 
     /**
@@ -1168,7 +1171,8 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress));
     }
 
     /**
@@ -1242,7 +1246,8 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, callPPI(device.address(), bindInfoCount, pBindInfos, __functionAddress));
     }
 
     /**
@@ -1312,7 +1317,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(device.address(), heapIndex, localDeviceIndex, remoteDeviceIndex, pPeerMemoryFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /**
@@ -1435,7 +1442,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), deviceMask, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ vkCmdDispatchBase ] ---
@@ -1538,7 +1547,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPV(commandBuffer.address(), baseGroupX, baseGroupY, baseGroupZ, groupCountX, groupCountY, groupCountZ, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ vkEnumeratePhysicalDeviceGroups ] ---
@@ -1553,7 +1564,8 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(instance.address(), pPhysicalDeviceGroupCount, pPhysicalDeviceGroupProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(instance.address(), pPhysicalDeviceGroupCount, pPhysicalDeviceGroupProperties, __functionAddress));
     }
 
     /**
@@ -1632,7 +1644,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pInfo, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     /**
@@ -1684,7 +1698,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pInfo, pMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     /**
@@ -1740,7 +1756,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(device.address(), pInfo, pSparseMemoryRequirementCount, pSparseMemoryRequirements, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /**
@@ -1800,7 +1818,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 10, __start);
     }
 
     /**
@@ -1852,7 +1872,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
     }
 
     /**
@@ -1904,7 +1926,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), format, pFormatProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     /**
@@ -1960,7 +1984,8 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
-        return callPPPI(physicalDevice.address(), pImageFormatInfo, pImageFormatProperties, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, callPPPI(physicalDevice.address(), pImageFormatInfo, pImageFormatProperties, __functionAddress));
     }
 
     /**
@@ -2036,7 +2061,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pQueueFamilyPropertyCount, pQueueFamilyProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /**
@@ -2096,7 +2123,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPV(physicalDevice.address(), pMemoryProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 15, __start);
     }
 
     /**
@@ -2152,7 +2181,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(physicalDevice.address(), pFormatInfo, pPropertyCount, pProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /**
@@ -2274,7 +2305,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPJV(device.address(), commandPool, flags, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ vkGetDeviceQueue2 ] ---
@@ -2285,7 +2318,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pQueueInfo, pQueue, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     /**
@@ -2333,7 +2368,8 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pYcbcrConversion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pYcbcrConversion, __functionAddress));
     }
 
     /**
@@ -2418,7 +2454,9 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), ycbcrConversion, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     /**
@@ -2479,7 +2517,8 @@ public class VK11 extends VK10 {
             VkDescriptorUpdateTemplateCreateInfo.validate(pCreateInfo);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
-        return callPPPPI(device.address(), pCreateInfo, pAllocator, pDescriptorUpdateTemplate, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPI(device.address(), pCreateInfo, pAllocator, pDescriptorUpdateTemplate, __functionAddress));
     }
 
     /**
@@ -2558,7 +2597,9 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             if (pAllocator != NULL) { VkAllocationCallbacks.validate(pAllocator); }
         }
+        long __start = FunctionProfiler.start();
         callPJPV(device.address(), descriptorUpdateTemplate, pAllocator, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     /**
@@ -2750,7 +2791,9 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             check(pData);
         }
+        long __start = FunctionProfiler.start();
         callPJJPV(device.address(), descriptorSet, descriptorUpdateTemplate, pData, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ vkGetPhysicalDeviceExternalBufferProperties ] ---
@@ -2761,7 +2804,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pExternalBufferInfo, pExternalBufferProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 24, __start);
     }
 
     /**
@@ -2813,7 +2858,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pExternalFenceInfo, pExternalFenceProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     /**
@@ -2865,7 +2912,9 @@ public class VK11 extends VK10 {
         if (CHECKS) {
             check(__functionAddress);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pExternalSemaphoreInfo, pExternalSemaphoreProperties, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 26, __start);
     }
 
     /**
@@ -2918,7 +2967,9 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             VkDescriptorSetLayoutCreateInfo.validate(pCreateInfo);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(device.address(), pCreateInfo, pSupport, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     /**
@@ -2981,7 +3032,8 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             check(pApiVersion, 1);
         }
-        return callPI(pApiVersion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, callPI(pApiVersion, __functionAddress));
     }
 
     /** Array version of: {@link #vkGetDeviceGroupPeerMemoryFeatures GetDeviceGroupPeerMemoryFeatures} */
@@ -2991,7 +3043,9 @@ public class VK11 extends VK10 {
             check(__functionAddress);
             check(pPeerMemoryFeatures, 1);
         }
+        long __start = FunctionProfiler.start();
         callPPV(device.address(), heapIndex, localDeviceIndex, remoteDeviceIndex, pPeerMemoryFeatures, __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     /** Array version of: {@link #vkEnumeratePhysicalDeviceGroups EnumeratePhysicalDeviceGroups} */
@@ -3003,7 +3057,8 @@ public class VK11 extends VK10 {
             check(pPhysicalDeviceGroupCount, 1);
             checkSafe(pPhysicalDeviceGroupProperties, pPhysicalDeviceGroupCount[0]);
         }
-        return callPPPI(instance.address(), pPhysicalDeviceGroupCount, memAddressSafe(pPhysicalDeviceGroupProperties), __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, callPPPI(instance.address(), pPhysicalDeviceGroupCount, memAddressSafe(pPhysicalDeviceGroupProperties), __functionAddress));
     }
 
     /** Array version of: {@link #vkGetImageSparseMemoryRequirements2 GetImageSparseMemoryRequirements2} */
@@ -3014,7 +3069,9 @@ public class VK11 extends VK10 {
             check(pSparseMemoryRequirementCount, 1);
             checkSafe(pSparseMemoryRequirements, pSparseMemoryRequirementCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(device.address(), pInfo.address(), pSparseMemoryRequirementCount, memAddressSafe(pSparseMemoryRequirements), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 9, __start);
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceQueueFamilyProperties2 GetPhysicalDeviceQueueFamilyProperties2} */
@@ -3025,7 +3082,9 @@ public class VK11 extends VK10 {
             check(pQueueFamilyPropertyCount, 1);
             checkSafe(pQueueFamilyProperties, pQueueFamilyPropertyCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPV(physicalDevice.address(), pQueueFamilyPropertyCount, memAddressSafe(pQueueFamilyProperties), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     /** Array version of: {@link #vkGetPhysicalDeviceSparseImageFormatProperties2 GetPhysicalDeviceSparseImageFormatProperties2} */
@@ -3036,7 +3095,9 @@ public class VK11 extends VK10 {
             check(pPropertyCount, 1);
             checkSafe(pProperties, pPropertyCount[0]);
         }
+        long __start = FunctionProfiler.start();
         callPPPPV(physicalDevice.address(), pFormatInfo.address(), pPropertyCount, memAddressSafe(pProperties), __functionAddress);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     /** Array version of: {@link #vkCreateSamplerYcbcrConversion CreateSamplerYcbcrConversion} */
@@ -3048,7 +3109,8 @@ public class VK11 extends VK10 {
             check(pYcbcrConversion, 1);
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pYcbcrConversion, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pYcbcrConversion, __functionAddress));
     }
 
     /** Array version of: {@link #vkCreateDescriptorUpdateTemplate CreateDescriptorUpdateTemplate} */
@@ -3061,7 +3123,8 @@ public class VK11 extends VK10 {
             VkDescriptorUpdateTemplateCreateInfo.validate(pCreateInfo.address());
             if (pAllocator != null) { VkAllocationCallbacks.validate(pAllocator.address()); }
         }
-        return callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pDescriptorUpdateTemplate, __functionAddress);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, callPPPPI(device.address(), pCreateInfo.address(), memAddressSafe(pAllocator), pDescriptorUpdateTemplate, __functionAddress));
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class VkAccelerationStructureCreateInfoNV extends Struct implements Nativ
         return wrap(VkAccelerationStructureCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAccelerationStructureCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAccelerationStructureCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkAccelerationStructureCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAccelerationStructureCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAccelerationStructureCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkAccelerationStructureCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAccelerationStructureCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkAccelerationStructureCreateInfoNV extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAccelerationStructureCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAccelerationStructureCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAccelerationStructureCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAccelerationStructureCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -393,6 +431,24 @@ public class VkAccelerationStructureCreateInfoNV extends Struct implements Nativ
         /** Passes the {@code info} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkAccelerationStructureCreateInfoNV.Buffer info(java.util.function.Consumer<VkAccelerationStructureInfoNV> consumer) { consumer.accept(info()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureCreateInfoNV.Buffer getSType(int[] dst) { gather(VkAccelerationStructureCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkAccelerationStructureCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code compactedSize} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureCreateInfoNV.Buffer getCompactedSize(long[] dst) { gather(VkAccelerationStructureCreateInfoNV.COMPACTEDSIZE, dst); return this; }
+        /** Copies the {@code compactedSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureCreateInfoNV.Buffer getCompactedSize(LongBuffer dst) { gather(VkAccelerationStructureCreateInfoNV.COMPACTEDSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkAccelerationStructureCreateInfoNV.Buffer putSType(int[] src) { scatter(VkAccelerationStructureCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkAccelerationStructureCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkAccelerationStructureCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code compactedSize} field of the structs between the current position and limit. */
+        public VkAccelerationStructureCreateInfoNV.Buffer putCompactedSize(long[] src) { scatter(VkAccelerationStructureCreateInfoNV.COMPACTEDSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compactedSize} field of the structs between the current position and limit. */
+        public VkAccelerationStructureCreateInfoNV.Buffer putCompactedSize(LongBuffer src) { scatter(VkAccelerationStructureCreateInfoNV.COMPACTEDSIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -300,6 +300,24 @@ public class VkAccelerationStructureInfoNV extends Struct implements NativeResou
         return wrap(VkAccelerationStructureInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAccelerationStructureInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAccelerationStructureInfoNV malloc(MemoryArena arena) {
+        return wrap(VkAccelerationStructureInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAccelerationStructureInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAccelerationStructureInfoNV calloc(MemoryArena arena) {
+        return wrap(VkAccelerationStructureInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAccelerationStructureInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -338,6 +356,26 @@ public class VkAccelerationStructureInfoNV extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAccelerationStructureInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAccelerationStructureInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAccelerationStructureInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAccelerationStructureInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -467,6 +505,44 @@ public class VkAccelerationStructureInfoNV extends Struct implements NativeResou
         /** Sets the address of the specified {@link VkGeometryNV.Buffer} to the {@code pGeometries} field. */
         public VkAccelerationStructureInfoNV.Buffer pGeometries(@Nullable @NativeType("VkGeometryNV const *") VkGeometryNV.Buffer value) { VkAccelerationStructureInfoNV.npGeometries(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureInfoNV.Buffer getSType(int[] dst) { gather(VkAccelerationStructureInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureInfoNV.Buffer getSType(IntBuffer dst) { gather(VkAccelerationStructureInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureInfoNV.Buffer getType(int[] dst) { gather(VkAccelerationStructureInfoNV.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureInfoNV.Buffer getType(IntBuffer dst) { gather(VkAccelerationStructureInfoNV.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureInfoNV.Buffer getFlags(int[] dst) { gather(VkAccelerationStructureInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureInfoNV.Buffer getFlags(IntBuffer dst) { gather(VkAccelerationStructureInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code instanceCount} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureInfoNV.Buffer getInstanceCount(int[] dst) { gather(VkAccelerationStructureInfoNV.INSTANCECOUNT, dst); return this; }
+        /** Copies the {@code instanceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureInfoNV.Buffer getInstanceCount(IntBuffer dst) { gather(VkAccelerationStructureInfoNV.INSTANCECOUNT, dst); return this; }
+        /** Copies the {@code geometryCount} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureInfoNV.Buffer getGeometryCount(int[] dst) { gather(VkAccelerationStructureInfoNV.GEOMETRYCOUNT, dst); return this; }
+        /** Copies the {@code geometryCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureInfoNV.Buffer getGeometryCount(IntBuffer dst) { gather(VkAccelerationStructureInfoNV.GEOMETRYCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putSType(int[] src) { scatter(VkAccelerationStructureInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putSType(IntBuffer src) { scatter(VkAccelerationStructureInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putType(int[] src) { scatter(VkAccelerationStructureInfoNV.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putType(IntBuffer src) { scatter(VkAccelerationStructureInfoNV.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putFlags(int[] src) { scatter(VkAccelerationStructureInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putFlags(IntBuffer src) { scatter(VkAccelerationStructureInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code instanceCount} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putInstanceCount(int[] src) { scatter(VkAccelerationStructureInfoNV.INSTANCECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code instanceCount} field of the structs between the current position and limit. */
+        public VkAccelerationStructureInfoNV.Buffer putInstanceCount(IntBuffer src) { scatter(VkAccelerationStructureInfoNV.INSTANCECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -247,6 +247,24 @@ public class VkAccelerationStructureMemoryRequirementsInfoNV extends Struct impl
         return wrap(VkAccelerationStructureMemoryRequirementsInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAccelerationStructureMemoryRequirementsInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAccelerationStructureMemoryRequirementsInfoNV malloc(MemoryArena arena) {
+        return wrap(VkAccelerationStructureMemoryRequirementsInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAccelerationStructureMemoryRequirementsInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAccelerationStructureMemoryRequirementsInfoNV calloc(MemoryArena arena) {
+        return wrap(VkAccelerationStructureMemoryRequirementsInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAccelerationStructureMemoryRequirementsInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkAccelerationStructureMemoryRequirementsInfoNV extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAccelerationStructureMemoryRequirementsInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAccelerationStructureMemoryRequirementsInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAccelerationStructureMemoryRequirementsInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAccelerationStructureMemoryRequirementsInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -365,6 +403,32 @@ public class VkAccelerationStructureMemoryRequirementsInfoNV extends Struct impl
         /** Sets the specified value to the {@code accelerationStructure} field. */
         public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer accelerationStructure(@NativeType("VkAccelerationStructureNV") long value) { VkAccelerationStructureMemoryRequirementsInfoNV.naccelerationStructure(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer getSType(int[] dst) { gather(VkAccelerationStructureMemoryRequirementsInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer getSType(IntBuffer dst) { gather(VkAccelerationStructureMemoryRequirementsInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer getType(int[] dst) { gather(VkAccelerationStructureMemoryRequirementsInfoNV.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer getType(IntBuffer dst) { gather(VkAccelerationStructureMemoryRequirementsInfoNV.TYPE, dst); return this; }
+        /** Copies the {@code accelerationStructure} field of the structs between the current position and limit to the specified array. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer getAccelerationStructure(long[] dst) { gather(VkAccelerationStructureMemoryRequirementsInfoNV.ACCELERATIONSTRUCTURE, dst); return this; }
+        /** Copies the {@code accelerationStructure} field of the structs between the current position and limit to the specified buffer. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer getAccelerationStructure(LongBuffer dst) { gather(VkAccelerationStructureMemoryRequirementsInfoNV.ACCELERATIONSTRUCTURE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer putSType(int[] src) { scatter(VkAccelerationStructureMemoryRequirementsInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer putSType(IntBuffer src) { scatter(VkAccelerationStructureMemoryRequirementsInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer putType(int[] src) { scatter(VkAccelerationStructureMemoryRequirementsInfoNV.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer putType(IntBuffer src) { scatter(VkAccelerationStructureMemoryRequirementsInfoNV.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code accelerationStructure} field of the structs between the current position and limit. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer putAccelerationStructure(long[] src) { scatter(VkAccelerationStructureMemoryRequirementsInfoNV.ACCELERATIONSTRUCTURE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code accelerationStructure} field of the structs between the current position and limit. */
+        public VkAccelerationStructureMemoryRequirementsInfoNV.Buffer putAccelerationStructure(LongBuffer src) { scatter(VkAccelerationStructureMemoryRequirementsInfoNV.ACCELERATIONSTRUCTURE, src); return this; }
+
     }
 
 }
\ No newline at end of file
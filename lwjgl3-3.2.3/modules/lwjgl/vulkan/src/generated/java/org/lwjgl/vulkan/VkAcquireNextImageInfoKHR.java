@@ -314,6 +314,24 @@ public class VkAcquireNextImageInfoKHR extends Struct implements NativeResource
         return wrap(VkAcquireNextImageInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAcquireNextImageInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAcquireNextImageInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkAcquireNextImageInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAcquireNextImageInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAcquireNextImageInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkAcquireNextImageInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAcquireNextImageInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -352,6 +370,26 @@ public class VkAcquireNextImageInfoKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAcquireNextImageInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAcquireNextImageInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAcquireNextImageInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAcquireNextImageInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -459,6 +497,56 @@ public class VkAcquireNextImageInfoKHR extends Struct implements NativeResource
         /** Sets the specified value to the {@code deviceMask} field. */
         public VkAcquireNextImageInfoKHR.Buffer deviceMask(@NativeType("uint32_t") int value) { VkAcquireNextImageInfoKHR.ndeviceMask(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkAcquireNextImageInfoKHR.Buffer getSType(int[] dst) { gather(VkAcquireNextImageInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkAcquireNextImageInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkAcquireNextImageInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code swapchain} field of the structs between the current position and limit to the specified array. */
+        public VkAcquireNextImageInfoKHR.Buffer getSwapchain(long[] dst) { gather(VkAcquireNextImageInfoKHR.SWAPCHAIN, dst); return this; }
+        /** Copies the {@code swapchain} field of the structs between the current position and limit to the specified buffer. */
+        public VkAcquireNextImageInfoKHR.Buffer getSwapchain(LongBuffer dst) { gather(VkAcquireNextImageInfoKHR.SWAPCHAIN, dst); return this; }
+        /** Copies the {@code timeout} field of the structs between the current position and limit to the specified array. */
+        public VkAcquireNextImageInfoKHR.Buffer getTimeout(long[] dst) { gather(VkAcquireNextImageInfoKHR.TIMEOUT, dst); return this; }
+        /** Copies the {@code timeout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAcquireNextImageInfoKHR.Buffer getTimeout(LongBuffer dst) { gather(VkAcquireNextImageInfoKHR.TIMEOUT, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified array. */
+        public VkAcquireNextImageInfoKHR.Buffer getSemaphore(long[] dst) { gather(VkAcquireNextImageInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified buffer. */
+        public VkAcquireNextImageInfoKHR.Buffer getSemaphore(LongBuffer dst) { gather(VkAcquireNextImageInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified array. */
+        public VkAcquireNextImageInfoKHR.Buffer getFence(long[] dst) { gather(VkAcquireNextImageInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified buffer. */
+        public VkAcquireNextImageInfoKHR.Buffer getFence(LongBuffer dst) { gather(VkAcquireNextImageInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified array. */
+        public VkAcquireNextImageInfoKHR.Buffer getDeviceMask(int[] dst) { gather(VkAcquireNextImageInfoKHR.DEVICEMASK, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkAcquireNextImageInfoKHR.Buffer getDeviceMask(IntBuffer dst) { gather(VkAcquireNextImageInfoKHR.DEVICEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putSType(int[] src) { scatter(VkAcquireNextImageInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkAcquireNextImageInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code swapchain} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putSwapchain(long[] src) { scatter(VkAcquireNextImageInfoKHR.SWAPCHAIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code swapchain} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putSwapchain(LongBuffer src) { scatter(VkAcquireNextImageInfoKHR.SWAPCHAIN, src); return this; }
+        /** Copies the values in the specified array to the {@code timeout} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putTimeout(long[] src) { scatter(VkAcquireNextImageInfoKHR.TIMEOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code timeout} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putTimeout(LongBuffer src) { scatter(VkAcquireNextImageInfoKHR.TIMEOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putSemaphore(long[] src) { scatter(VkAcquireNextImageInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putSemaphore(LongBuffer src) { scatter(VkAcquireNextImageInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified array to the {@code fence} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putFence(long[] src) { scatter(VkAcquireNextImageInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fence} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putFence(LongBuffer src) { scatter(VkAcquireNextImageInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified array to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putDeviceMask(int[] src) { scatter(VkAcquireNextImageInfoKHR.DEVICEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkAcquireNextImageInfoKHR.Buffer putDeviceMask(IntBuffer src) { scatter(VkAcquireNextImageInfoKHR.DEVICEMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
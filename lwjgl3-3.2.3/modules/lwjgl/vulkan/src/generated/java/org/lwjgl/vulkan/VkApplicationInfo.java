@@ -327,6 +327,24 @@ public class VkApplicationInfo extends Struct implements NativeResource {
         return wrap(VkApplicationInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkApplicationInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkApplicationInfo malloc(MemoryArena arena) {
+        return wrap(VkApplicationInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkApplicationInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkApplicationInfo calloc(MemoryArena arena) {
+        return wrap(VkApplicationInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkApplicationInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -365,6 +383,26 @@ public class VkApplicationInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkApplicationInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkApplicationInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkApplicationInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkApplicationInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -492,6 +530,40 @@ public class VkApplicationInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code apiVersion} field. */
         public VkApplicationInfo.Buffer apiVersion(@NativeType("uint32_t") int value) { VkApplicationInfo.napiVersion(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkApplicationInfo.Buffer getSType(int[] dst) { gather(VkApplicationInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkApplicationInfo.Buffer getSType(IntBuffer dst) { gather(VkApplicationInfo.STYPE, dst); return this; }
+        /** Copies the {@code applicationVersion} field of the structs between the current position and limit to the specified array. */
+        public VkApplicationInfo.Buffer getApplicationVersion(int[] dst) { gather(VkApplicationInfo.APPLICATIONVERSION, dst); return this; }
+        /** Copies the {@code applicationVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkApplicationInfo.Buffer getApplicationVersion(IntBuffer dst) { gather(VkApplicationInfo.APPLICATIONVERSION, dst); return this; }
+        /** Copies the {@code engineVersion} field of the structs between the current position and limit to the specified array. */
+        public VkApplicationInfo.Buffer getEngineVersion(int[] dst) { gather(VkApplicationInfo.ENGINEVERSION, dst); return this; }
+        /** Copies the {@code engineVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkApplicationInfo.Buffer getEngineVersion(IntBuffer dst) { gather(VkApplicationInfo.ENGINEVERSION, dst); return this; }
+        /** Copies the {@code apiVersion} field of the structs between the current position and limit to the specified array. */
+        public VkApplicationInfo.Buffer getApiVersion(int[] dst) { gather(VkApplicationInfo.APIVERSION, dst); return this; }
+        /** Copies the {@code apiVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkApplicationInfo.Buffer getApiVersion(IntBuffer dst) { gather(VkApplicationInfo.APIVERSION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putSType(int[] src) { scatter(VkApplicationInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putSType(IntBuffer src) { scatter(VkApplicationInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code applicationVersion} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putApplicationVersion(int[] src) { scatter(VkApplicationInfo.APPLICATIONVERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code applicationVersion} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putApplicationVersion(IntBuffer src) { scatter(VkApplicationInfo.APPLICATIONVERSION, src); return this; }
+        /** Copies the values in the specified array to the {@code engineVersion} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putEngineVersion(int[] src) { scatter(VkApplicationInfo.ENGINEVERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code engineVersion} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putEngineVersion(IntBuffer src) { scatter(VkApplicationInfo.ENGINEVERSION, src); return this; }
+        /** Copies the values in the specified array to the {@code apiVersion} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putApiVersion(int[] src) { scatter(VkApplicationInfo.APIVERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code apiVersion} field of the structs between the current position and limit. */
+        public VkApplicationInfo.Buffer putApiVersion(IntBuffer src) { scatter(VkApplicationInfo.APIVERSION, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -334,6 +334,24 @@ public class VkAttachmentDescription extends Struct implements NativeResource {
         return wrap(VkAttachmentDescription.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAttachmentDescription} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentDescription malloc(MemoryArena arena) {
+        return wrap(VkAttachmentDescription.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAttachmentDescription} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentDescription calloc(MemoryArena arena) {
+        return wrap(VkAttachmentDescription.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAttachmentDescription.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -372,6 +390,26 @@ public class VkAttachmentDescription extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAttachmentDescription.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentDescription.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAttachmentDescription.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentDescription.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #flags}. */
@@ -497,6 +535,80 @@ public class VkAttachmentDescription extends Struct implements NativeResource {
         /** Sets the specified value to the {@code finalLayout} field. */
         public VkAttachmentDescription.Buffer finalLayout(@NativeType("VkImageLayout") int value) { VkAttachmentDescription.nfinalLayout(address(), value); return this; }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getFlags(int[] dst) { gather(VkAttachmentDescription.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getFlags(IntBuffer dst) { gather(VkAttachmentDescription.FLAGS, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getFormat(int[] dst) { gather(VkAttachmentDescription.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getFormat(IntBuffer dst) { gather(VkAttachmentDescription.FORMAT, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getSamples(int[] dst) { gather(VkAttachmentDescription.SAMPLES, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getSamples(IntBuffer dst) { gather(VkAttachmentDescription.SAMPLES, dst); return this; }
+        /** Copies the {@code loadOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getLoadOp(int[] dst) { gather(VkAttachmentDescription.LOADOP, dst); return this; }
+        /** Copies the {@code loadOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getLoadOp(IntBuffer dst) { gather(VkAttachmentDescription.LOADOP, dst); return this; }
+        /** Copies the {@code storeOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getStoreOp(int[] dst) { gather(VkAttachmentDescription.STOREOP, dst); return this; }
+        /** Copies the {@code storeOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getStoreOp(IntBuffer dst) { gather(VkAttachmentDescription.STOREOP, dst); return this; }
+        /** Copies the {@code stencilLoadOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getStencilLoadOp(int[] dst) { gather(VkAttachmentDescription.STENCILLOADOP, dst); return this; }
+        /** Copies the {@code stencilLoadOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getStencilLoadOp(IntBuffer dst) { gather(VkAttachmentDescription.STENCILLOADOP, dst); return this; }
+        /** Copies the {@code stencilStoreOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getStencilStoreOp(int[] dst) { gather(VkAttachmentDescription.STENCILSTOREOP, dst); return this; }
+        /** Copies the {@code stencilStoreOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getStencilStoreOp(IntBuffer dst) { gather(VkAttachmentDescription.STENCILSTOREOP, dst); return this; }
+        /** Copies the {@code initialLayout} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getInitialLayout(int[] dst) { gather(VkAttachmentDescription.INITIALLAYOUT, dst); return this; }
+        /** Copies the {@code initialLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getInitialLayout(IntBuffer dst) { gather(VkAttachmentDescription.INITIALLAYOUT, dst); return this; }
+        /** Copies the {@code finalLayout} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription.Buffer getFinalLayout(int[] dst) { gather(VkAttachmentDescription.FINALLAYOUT, dst); return this; }
+        /** Copies the {@code finalLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription.Buffer getFinalLayout(IntBuffer dst) { gather(VkAttachmentDescription.FINALLAYOUT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putFlags(int[] src) { scatter(VkAttachmentDescription.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putFlags(IntBuffer src) { scatter(VkAttachmentDescription.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putFormat(int[] src) { scatter(VkAttachmentDescription.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putFormat(IntBuffer src) { scatter(VkAttachmentDescription.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code samples} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putSamples(int[] src) { scatter(VkAttachmentDescription.SAMPLES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code samples} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putSamples(IntBuffer src) { scatter(VkAttachmentDescription.SAMPLES, src); return this; }
+        /** Copies the values in the specified array to the {@code loadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putLoadOp(int[] src) { scatter(VkAttachmentDescription.LOADOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code loadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putLoadOp(IntBuffer src) { scatter(VkAttachmentDescription.LOADOP, src); return this; }
+        /** Copies the values in the specified array to the {@code storeOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putStoreOp(int[] src) { scatter(VkAttachmentDescription.STOREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code storeOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putStoreOp(IntBuffer src) { scatter(VkAttachmentDescription.STOREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code stencilLoadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putStencilLoadOp(int[] src) { scatter(VkAttachmentDescription.STENCILLOADOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencilLoadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putStencilLoadOp(IntBuffer src) { scatter(VkAttachmentDescription.STENCILLOADOP, src); return this; }
+        /** Copies the values in the specified array to the {@code stencilStoreOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putStencilStoreOp(int[] src) { scatter(VkAttachmentDescription.STENCILSTOREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencilStoreOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putStencilStoreOp(IntBuffer src) { scatter(VkAttachmentDescription.STENCILSTOREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code initialLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putInitialLayout(int[] src) { scatter(VkAttachmentDescription.INITIALLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code initialLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putInitialLayout(IntBuffer src) { scatter(VkAttachmentDescription.INITIALLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code finalLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putFinalLayout(int[] src) { scatter(VkAttachmentDescription.FINALLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code finalLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription.Buffer putFinalLayout(IntBuffer src) { scatter(VkAttachmentDescription.FINALLAYOUT, src); return this; }
+
     }
 
 }
\ No newline at end of file
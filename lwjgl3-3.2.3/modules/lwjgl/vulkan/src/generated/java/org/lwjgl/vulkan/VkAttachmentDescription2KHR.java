@@ -347,6 +347,24 @@ public class VkAttachmentDescription2KHR extends Struct implements NativeResourc
         return wrap(VkAttachmentDescription2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAttachmentDescription2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentDescription2KHR malloc(MemoryArena arena) {
+        return wrap(VkAttachmentDescription2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAttachmentDescription2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentDescription2KHR calloc(MemoryArena arena) {
+        return wrap(VkAttachmentDescription2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAttachmentDescription2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -385,6 +403,26 @@ public class VkAttachmentDescription2KHR extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAttachmentDescription2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentDescription2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAttachmentDescription2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentDescription2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -528,6 +566,88 @@ public class VkAttachmentDescription2KHR extends Struct implements NativeResourc
         /** Sets the specified value to the {@code finalLayout} field. */
         public VkAttachmentDescription2KHR.Buffer finalLayout(@NativeType("VkImageLayout") int value) { VkAttachmentDescription2KHR.nfinalLayout(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getSType(int[] dst) { gather(VkAttachmentDescription2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getSType(IntBuffer dst) { gather(VkAttachmentDescription2KHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getFlags(int[] dst) { gather(VkAttachmentDescription2KHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getFlags(IntBuffer dst) { gather(VkAttachmentDescription2KHR.FLAGS, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getFormat(int[] dst) { gather(VkAttachmentDescription2KHR.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getFormat(IntBuffer dst) { gather(VkAttachmentDescription2KHR.FORMAT, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getSamples(int[] dst) { gather(VkAttachmentDescription2KHR.SAMPLES, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getSamples(IntBuffer dst) { gather(VkAttachmentDescription2KHR.SAMPLES, dst); return this; }
+        /** Copies the {@code loadOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getLoadOp(int[] dst) { gather(VkAttachmentDescription2KHR.LOADOP, dst); return this; }
+        /** Copies the {@code loadOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getLoadOp(IntBuffer dst) { gather(VkAttachmentDescription2KHR.LOADOP, dst); return this; }
+        /** Copies the {@code storeOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getStoreOp(int[] dst) { gather(VkAttachmentDescription2KHR.STOREOP, dst); return this; }
+        /** Copies the {@code storeOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getStoreOp(IntBuffer dst) { gather(VkAttachmentDescription2KHR.STOREOP, dst); return this; }
+        /** Copies the {@code stencilLoadOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getStencilLoadOp(int[] dst) { gather(VkAttachmentDescription2KHR.STENCILLOADOP, dst); return this; }
+        /** Copies the {@code stencilLoadOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getStencilLoadOp(IntBuffer dst) { gather(VkAttachmentDescription2KHR.STENCILLOADOP, dst); return this; }
+        /** Copies the {@code stencilStoreOp} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getStencilStoreOp(int[] dst) { gather(VkAttachmentDescription2KHR.STENCILSTOREOP, dst); return this; }
+        /** Copies the {@code stencilStoreOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getStencilStoreOp(IntBuffer dst) { gather(VkAttachmentDescription2KHR.STENCILSTOREOP, dst); return this; }
+        /** Copies the {@code initialLayout} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getInitialLayout(int[] dst) { gather(VkAttachmentDescription2KHR.INITIALLAYOUT, dst); return this; }
+        /** Copies the {@code initialLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getInitialLayout(IntBuffer dst) { gather(VkAttachmentDescription2KHR.INITIALLAYOUT, dst); return this; }
+        /** Copies the {@code finalLayout} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentDescription2KHR.Buffer getFinalLayout(int[] dst) { gather(VkAttachmentDescription2KHR.FINALLAYOUT, dst); return this; }
+        /** Copies the {@code finalLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentDescription2KHR.Buffer getFinalLayout(IntBuffer dst) { gather(VkAttachmentDescription2KHR.FINALLAYOUT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putSType(int[] src) { scatter(VkAttachmentDescription2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putSType(IntBuffer src) { scatter(VkAttachmentDescription2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putFlags(int[] src) { scatter(VkAttachmentDescription2KHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putFlags(IntBuffer src) { scatter(VkAttachmentDescription2KHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putFormat(int[] src) { scatter(VkAttachmentDescription2KHR.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putFormat(IntBuffer src) { scatter(VkAttachmentDescription2KHR.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code samples} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putSamples(int[] src) { scatter(VkAttachmentDescription2KHR.SAMPLES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code samples} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putSamples(IntBuffer src) { scatter(VkAttachmentDescription2KHR.SAMPLES, src); return this; }
+        /** Copies the values in the specified array to the {@code loadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putLoadOp(int[] src) { scatter(VkAttachmentDescription2KHR.LOADOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code loadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putLoadOp(IntBuffer src) { scatter(VkAttachmentDescription2KHR.LOADOP, src); return this; }
+        /** Copies the values in the specified array to the {@code storeOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putStoreOp(int[] src) { scatter(VkAttachmentDescription2KHR.STOREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code storeOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putStoreOp(IntBuffer src) { scatter(VkAttachmentDescription2KHR.STOREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code stencilLoadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putStencilLoadOp(int[] src) { scatter(VkAttachmentDescription2KHR.STENCILLOADOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencilLoadOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putStencilLoadOp(IntBuffer src) { scatter(VkAttachmentDescription2KHR.STENCILLOADOP, src); return this; }
+        /** Copies the values in the specified array to the {@code stencilStoreOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putStencilStoreOp(int[] src) { scatter(VkAttachmentDescription2KHR.STENCILSTOREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencilStoreOp} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putStencilStoreOp(IntBuffer src) { scatter(VkAttachmentDescription2KHR.STENCILSTOREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code initialLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putInitialLayout(int[] src) { scatter(VkAttachmentDescription2KHR.INITIALLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code initialLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putInitialLayout(IntBuffer src) { scatter(VkAttachmentDescription2KHR.INITIALLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code finalLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putFinalLayout(int[] src) { scatter(VkAttachmentDescription2KHR.FINALLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code finalLayout} field of the structs between the current position and limit. */
+        public VkAttachmentDescription2KHR.Buffer putFinalLayout(IntBuffer src) { scatter(VkAttachmentDescription2KHR.FINALLAYOUT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -226,6 +226,24 @@ public class VkAttachmentReference extends Struct implements NativeResource {
         return wrap(VkAttachmentReference.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAttachmentReference} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentReference malloc(MemoryArena arena) {
+        return wrap(VkAttachmentReference.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAttachmentReference} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentReference calloc(MemoryArena arena) {
+        return wrap(VkAttachmentReference.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAttachmentReference.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -264,6 +282,26 @@ public class VkAttachmentReference extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAttachmentReference.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentReference.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAttachmentReference.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentReference.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #attachment}. */
@@ -326,6 +364,24 @@ public class VkAttachmentReference extends Struct implements NativeResource {
         /** Sets the specified value to the {@code layout} field. */
         public VkAttachmentReference.Buffer layout(@NativeType("VkImageLayout") int value) { VkAttachmentReference.nlayout(address(), value); return this; }
 
+        /** Copies the {@code attachment} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentReference.Buffer getAttachment(int[] dst) { gather(VkAttachmentReference.ATTACHMENT, dst); return this; }
+        /** Copies the {@code attachment} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentReference.Buffer getAttachment(IntBuffer dst) { gather(VkAttachmentReference.ATTACHMENT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentReference.Buffer getLayout(int[] dst) { gather(VkAttachmentReference.LAYOUT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentReference.Buffer getLayout(IntBuffer dst) { gather(VkAttachmentReference.LAYOUT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code attachment} field of the structs between the current position and limit. */
+        public VkAttachmentReference.Buffer putAttachment(int[] src) { scatter(VkAttachmentReference.ATTACHMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code attachment} field of the structs between the current position and limit. */
+        public VkAttachmentReference.Buffer putAttachment(IntBuffer src) { scatter(VkAttachmentReference.ATTACHMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code layout} field of the structs between the current position and limit. */
+        public VkAttachmentReference.Buffer putLayout(int[] src) { scatter(VkAttachmentReference.LAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layout} field of the structs between the current position and limit. */
+        public VkAttachmentReference.Buffer putLayout(IntBuffer src) { scatter(VkAttachmentReference.LAYOUT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -269,6 +269,24 @@ public class VkAttachmentReference2KHR extends Struct implements NativeResource
         return wrap(VkAttachmentReference2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAttachmentReference2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentReference2KHR malloc(MemoryArena arena) {
+        return wrap(VkAttachmentReference2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAttachmentReference2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentReference2KHR calloc(MemoryArena arena) {
+        return wrap(VkAttachmentReference2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAttachmentReference2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class VkAttachmentReference2KHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAttachmentReference2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentReference2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAttachmentReference2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentReference2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -396,6 +434,40 @@ public class VkAttachmentReference2KHR extends Struct implements NativeResource
         /** Sets the specified value to the {@code aspectMask} field. */
         public VkAttachmentReference2KHR.Buffer aspectMask(@NativeType("VkImageAspectFlags") int value) { VkAttachmentReference2KHR.naspectMask(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentReference2KHR.Buffer getSType(int[] dst) { gather(VkAttachmentReference2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentReference2KHR.Buffer getSType(IntBuffer dst) { gather(VkAttachmentReference2KHR.STYPE, dst); return this; }
+        /** Copies the {@code attachment} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentReference2KHR.Buffer getAttachment(int[] dst) { gather(VkAttachmentReference2KHR.ATTACHMENT, dst); return this; }
+        /** Copies the {@code attachment} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentReference2KHR.Buffer getAttachment(IntBuffer dst) { gather(VkAttachmentReference2KHR.ATTACHMENT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentReference2KHR.Buffer getLayout(int[] dst) { gather(VkAttachmentReference2KHR.LAYOUT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentReference2KHR.Buffer getLayout(IntBuffer dst) { gather(VkAttachmentReference2KHR.LAYOUT, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentReference2KHR.Buffer getAspectMask(int[] dst) { gather(VkAttachmentReference2KHR.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentReference2KHR.Buffer getAspectMask(IntBuffer dst) { gather(VkAttachmentReference2KHR.ASPECTMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putSType(int[] src) { scatter(VkAttachmentReference2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putSType(IntBuffer src) { scatter(VkAttachmentReference2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code attachment} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putAttachment(int[] src) { scatter(VkAttachmentReference2KHR.ATTACHMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code attachment} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putAttachment(IntBuffer src) { scatter(VkAttachmentReference2KHR.ATTACHMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code layout} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putLayout(int[] src) { scatter(VkAttachmentReference2KHR.LAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layout} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putLayout(IntBuffer src) { scatter(VkAttachmentReference2KHR.LAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putAspectMask(int[] src) { scatter(VkAttachmentReference2KHR.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkAttachmentReference2KHR.Buffer putAspectMask(IntBuffer src) { scatter(VkAttachmentReference2KHR.ASPECTMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
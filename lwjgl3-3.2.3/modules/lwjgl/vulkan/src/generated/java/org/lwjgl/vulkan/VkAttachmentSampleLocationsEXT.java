@@ -231,6 +231,24 @@ public class VkAttachmentSampleLocationsEXT extends Struct implements NativeReso
         return wrap(VkAttachmentSampleLocationsEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkAttachmentSampleLocationsEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentSampleLocationsEXT malloc(MemoryArena arena) {
+        return wrap(VkAttachmentSampleLocationsEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkAttachmentSampleLocationsEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkAttachmentSampleLocationsEXT calloc(MemoryArena arena) {
+        return wrap(VkAttachmentSampleLocationsEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkAttachmentSampleLocationsEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class VkAttachmentSampleLocationsEXT extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkAttachmentSampleLocationsEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentSampleLocationsEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkAttachmentSampleLocationsEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkAttachmentSampleLocationsEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #attachmentIndex}. */
@@ -353,6 +391,16 @@ public class VkAttachmentSampleLocationsEXT extends Struct implements NativeReso
         /** Passes the {@code sampleLocationsInfo} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkAttachmentSampleLocationsEXT.Buffer sampleLocationsInfo(java.util.function.Consumer<VkSampleLocationsInfoEXT> consumer) { consumer.accept(sampleLocationsInfo()); return this; }
 
+        /** Copies the {@code attachmentIndex} field of the structs between the current position and limit to the specified array. */
+        public VkAttachmentSampleLocationsEXT.Buffer getAttachmentIndex(int[] dst) { gather(VkAttachmentSampleLocationsEXT.ATTACHMENTINDEX, dst); return this; }
+        /** Copies the {@code attachmentIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkAttachmentSampleLocationsEXT.Buffer getAttachmentIndex(IntBuffer dst) { gather(VkAttachmentSampleLocationsEXT.ATTACHMENTINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code attachmentIndex} field of the structs between the current position and limit. */
+        public VkAttachmentSampleLocationsEXT.Buffer putAttachmentIndex(int[] src) { scatter(VkAttachmentSampleLocationsEXT.ATTACHMENTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code attachmentIndex} field of the structs between the current position and limit. */
+        public VkAttachmentSampleLocationsEXT.Buffer putAttachmentIndex(IntBuffer src) { scatter(VkAttachmentSampleLocationsEXT.ATTACHMENTINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -219,6 +219,24 @@ public class VkBaseInStructure extends Struct implements NativeResource {
         return wrap(VkBaseInStructure.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBaseInStructure} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBaseInStructure malloc(MemoryArena arena) {
+        return wrap(VkBaseInStructure.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBaseInStructure} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBaseInStructure calloc(MemoryArena arena) {
+        return wrap(VkBaseInStructure.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBaseInStructure.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -257,6 +275,26 @@ public class VkBaseInStructure extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBaseInStructure.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBaseInStructure.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBaseInStructure.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBaseInStructure.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -320,6 +358,16 @@ public class VkBaseInStructure extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkBaseInStructure} to the {@code pNext} field. */
         public VkBaseInStructure.Buffer pNext(@Nullable @NativeType("VkBaseInStructure *") VkBaseInStructure value) { VkBaseInStructure.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBaseInStructure.Buffer getSType(int[] dst) { gather(VkBaseInStructure.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBaseInStructure.Buffer getSType(IntBuffer dst) { gather(VkBaseInStructure.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBaseInStructure.Buffer putSType(int[] src) { scatter(VkBaseInStructure.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBaseInStructure.Buffer putSType(IntBuffer src) { scatter(VkBaseInStructure.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -219,6 +219,24 @@ public class VkBaseOutStructure extends Struct implements NativeResource {
         return wrap(VkBaseOutStructure.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBaseOutStructure} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBaseOutStructure malloc(MemoryArena arena) {
+        return wrap(VkBaseOutStructure.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBaseOutStructure} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBaseOutStructure calloc(MemoryArena arena) {
+        return wrap(VkBaseOutStructure.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBaseOutStructure.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -257,6 +275,26 @@ public class VkBaseOutStructure extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBaseOutStructure.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBaseOutStructure.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBaseOutStructure.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBaseOutStructure.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -320,6 +358,16 @@ public class VkBaseOutStructure extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkBaseOutStructure} to the {@code pNext} field. */
         public VkBaseOutStructure.Buffer pNext(@Nullable @NativeType("VkBaseOutStructure *") VkBaseOutStructure value) { VkBaseOutStructure.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBaseOutStructure.Buffer getSType(int[] dst) { gather(VkBaseOutStructure.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBaseOutStructure.Buffer getSType(IntBuffer dst) { gather(VkBaseOutStructure.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBaseOutStructure.Buffer putSType(int[] src) { scatter(VkBaseOutStructure.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBaseOutStructure.Buffer putSType(IntBuffer src) { scatter(VkBaseOutStructure.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -293,6 +293,24 @@ public class VkBindAccelerationStructureMemoryInfoNV extends Struct implements N
         return wrap(VkBindAccelerationStructureMemoryInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindAccelerationStructureMemoryInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindAccelerationStructureMemoryInfoNV malloc(MemoryArena arena) {
+        return wrap(VkBindAccelerationStructureMemoryInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindAccelerationStructureMemoryInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindAccelerationStructureMemoryInfoNV calloc(MemoryArena arena) {
+        return wrap(VkBindAccelerationStructureMemoryInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindAccelerationStructureMemoryInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class VkBindAccelerationStructureMemoryInfoNV extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindAccelerationStructureMemoryInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindAccelerationStructureMemoryInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindAccelerationStructureMemoryInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindAccelerationStructureMemoryInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -460,6 +498,44 @@ public class VkBindAccelerationStructureMemoryInfoNV extends Struct implements N
         /** Sets the address of the specified {@link IntBuffer} to the {@code pDeviceIndices} field. */
         public VkBindAccelerationStructureMemoryInfoNV.Buffer pDeviceIndices(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkBindAccelerationStructureMemoryInfoNV.npDeviceIndices(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getSType(int[] dst) { gather(VkBindAccelerationStructureMemoryInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getSType(IntBuffer dst) { gather(VkBindAccelerationStructureMemoryInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code accelerationStructure} field of the structs between the current position and limit to the specified array. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getAccelerationStructure(long[] dst) { gather(VkBindAccelerationStructureMemoryInfoNV.ACCELERATIONSTRUCTURE, dst); return this; }
+        /** Copies the {@code accelerationStructure} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getAccelerationStructure(LongBuffer dst) { gather(VkBindAccelerationStructureMemoryInfoNV.ACCELERATIONSTRUCTURE, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getMemory(long[] dst) { gather(VkBindAccelerationStructureMemoryInfoNV.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getMemory(LongBuffer dst) { gather(VkBindAccelerationStructureMemoryInfoNV.MEMORY, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified array. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getMemoryOffset(long[] dst) { gather(VkBindAccelerationStructureMemoryInfoNV.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getMemoryOffset(LongBuffer dst) { gather(VkBindAccelerationStructureMemoryInfoNV.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code deviceIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getDeviceIndexCount(int[] dst) { gather(VkBindAccelerationStructureMemoryInfoNV.DEVICEINDEXCOUNT, dst); return this; }
+        /** Copies the {@code deviceIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer getDeviceIndexCount(IntBuffer dst) { gather(VkBindAccelerationStructureMemoryInfoNV.DEVICEINDEXCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putSType(int[] src) { scatter(VkBindAccelerationStructureMemoryInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putSType(IntBuffer src) { scatter(VkBindAccelerationStructureMemoryInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code accelerationStructure} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putAccelerationStructure(long[] src) { scatter(VkBindAccelerationStructureMemoryInfoNV.ACCELERATIONSTRUCTURE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code accelerationStructure} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putAccelerationStructure(LongBuffer src) { scatter(VkBindAccelerationStructureMemoryInfoNV.ACCELERATIONSTRUCTURE, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putMemory(long[] src) { scatter(VkBindAccelerationStructureMemoryInfoNV.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putMemory(LongBuffer src) { scatter(VkBindAccelerationStructureMemoryInfoNV.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putMemoryOffset(long[] src) { scatter(VkBindAccelerationStructureMemoryInfoNV.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkBindAccelerationStructureMemoryInfoNV.Buffer putMemoryOffset(LongBuffer src) { scatter(VkBindAccelerationStructureMemoryInfoNV.MEMORYOFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
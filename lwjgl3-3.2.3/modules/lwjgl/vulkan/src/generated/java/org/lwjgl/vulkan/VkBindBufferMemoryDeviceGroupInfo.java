@@ -254,6 +254,24 @@ public class VkBindBufferMemoryDeviceGroupInfo extends Struct implements NativeR
         return wrap(VkBindBufferMemoryDeviceGroupInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindBufferMemoryDeviceGroupInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfo malloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryDeviceGroupInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindBufferMemoryDeviceGroupInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfo calloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryDeviceGroupInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindBufferMemoryDeviceGroupInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class VkBindBufferMemoryDeviceGroupInfo extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindBufferMemoryDeviceGroupInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindBufferMemoryDeviceGroupInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -394,6 +432,20 @@ public class VkBindBufferMemoryDeviceGroupInfo extends Struct implements NativeR
         /** Sets the address of the specified {@link IntBuffer} to the {@code pDeviceIndices} field. */
         public VkBindBufferMemoryDeviceGroupInfo.Buffer pDeviceIndices(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkBindBufferMemoryDeviceGroupInfo.npDeviceIndices(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindBufferMemoryDeviceGroupInfo.Buffer getSType(int[] dst) { gather(VkBindBufferMemoryDeviceGroupInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindBufferMemoryDeviceGroupInfo.Buffer getSType(IntBuffer dst) { gather(VkBindBufferMemoryDeviceGroupInfo.STYPE, dst); return this; }
+        /** Copies the {@code deviceIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindBufferMemoryDeviceGroupInfo.Buffer getDeviceIndexCount(int[] dst) { gather(VkBindBufferMemoryDeviceGroupInfo.DEVICEINDEXCOUNT, dst); return this; }
+        /** Copies the {@code deviceIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindBufferMemoryDeviceGroupInfo.Buffer getDeviceIndexCount(IntBuffer dst) { gather(VkBindBufferMemoryDeviceGroupInfo.DEVICEINDEXCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryDeviceGroupInfo.Buffer putSType(int[] src) { scatter(VkBindBufferMemoryDeviceGroupInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryDeviceGroupInfo.Buffer putSType(IntBuffer src) { scatter(VkBindBufferMemoryDeviceGroupInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -180,6 +180,24 @@ public class VkBindBufferMemoryDeviceGroupInfoKHR extends VkBindBufferMemoryDevi
         return wrap(VkBindBufferMemoryDeviceGroupInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindBufferMemoryDeviceGroupInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryDeviceGroupInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindBufferMemoryDeviceGroupInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryDeviceGroupInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindBufferMemoryDeviceGroupInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -218,6 +236,26 @@ public class VkBindBufferMemoryDeviceGroupInfoKHR extends VkBindBufferMemoryDevi
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindBufferMemoryDeviceGroupInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindBufferMemoryDeviceGroupInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryDeviceGroupInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** An array of {@link VkBindBufferMemoryDeviceGroupInfoKHR} structs. */
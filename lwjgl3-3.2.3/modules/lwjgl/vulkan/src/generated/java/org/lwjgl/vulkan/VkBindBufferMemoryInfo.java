@@ -277,6 +277,24 @@ public class VkBindBufferMemoryInfo extends Struct implements NativeResource {
         return wrap(VkBindBufferMemoryInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindBufferMemoryInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfo malloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindBufferMemoryInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfo calloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindBufferMemoryInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -315,6 +333,26 @@ public class VkBindBufferMemoryInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindBufferMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindBufferMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -404,6 +442,40 @@ public class VkBindBufferMemoryInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code memoryOffset} field. */
         public VkBindBufferMemoryInfo.Buffer memoryOffset(@NativeType("VkDeviceSize") long value) { VkBindBufferMemoryInfo.nmemoryOffset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindBufferMemoryInfo.Buffer getSType(int[] dst) { gather(VkBindBufferMemoryInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindBufferMemoryInfo.Buffer getSType(IntBuffer dst) { gather(VkBindBufferMemoryInfo.STYPE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkBindBufferMemoryInfo.Buffer getBuffer(long[] dst) { gather(VkBindBufferMemoryInfo.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindBufferMemoryInfo.Buffer getBuffer(LongBuffer dst) { gather(VkBindBufferMemoryInfo.BUFFER, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkBindBufferMemoryInfo.Buffer getMemory(long[] dst) { gather(VkBindBufferMemoryInfo.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindBufferMemoryInfo.Buffer getMemory(LongBuffer dst) { gather(VkBindBufferMemoryInfo.MEMORY, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified array. */
+        public VkBindBufferMemoryInfo.Buffer getMemoryOffset(long[] dst) { gather(VkBindBufferMemoryInfo.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindBufferMemoryInfo.Buffer getMemoryOffset(LongBuffer dst) { gather(VkBindBufferMemoryInfo.MEMORYOFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putSType(int[] src) { scatter(VkBindBufferMemoryInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putSType(IntBuffer src) { scatter(VkBindBufferMemoryInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putBuffer(long[] src) { scatter(VkBindBufferMemoryInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putBuffer(LongBuffer src) { scatter(VkBindBufferMemoryInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putMemory(long[] src) { scatter(VkBindBufferMemoryInfo.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putMemory(LongBuffer src) { scatter(VkBindBufferMemoryInfo.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putMemoryOffset(long[] src) { scatter(VkBindBufferMemoryInfo.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkBindBufferMemoryInfo.Buffer putMemoryOffset(LongBuffer src) { scatter(VkBindBufferMemoryInfo.MEMORYOFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
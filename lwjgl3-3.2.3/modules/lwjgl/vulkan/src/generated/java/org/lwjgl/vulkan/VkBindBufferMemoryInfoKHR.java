@@ -190,6 +190,24 @@ public class VkBindBufferMemoryInfoKHR extends VkBindBufferMemoryInfo {
         return wrap(VkBindBufferMemoryInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindBufferMemoryInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindBufferMemoryInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkBindBufferMemoryInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindBufferMemoryInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -228,6 +246,26 @@ public class VkBindBufferMemoryInfoKHR extends VkBindBufferMemoryInfo {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindBufferMemoryInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindBufferMemoryInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindBufferMemoryInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** An array of {@link VkBindBufferMemoryInfoKHR} structs. */
@@ -289,6 +289,24 @@ public class VkBindImageMemoryDeviceGroupInfo extends Struct implements NativeRe
         return wrap(VkBindImageMemoryDeviceGroupInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindImageMemoryDeviceGroupInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfo malloc(MemoryArena arena) {
+        return wrap(VkBindImageMemoryDeviceGroupInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindImageMemoryDeviceGroupInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfo calloc(MemoryArena arena) {
+        return wrap(VkBindImageMemoryDeviceGroupInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindImageMemoryDeviceGroupInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class VkBindImageMemoryDeviceGroupInfo extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindImageMemoryDeviceGroupInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindImageMemoryDeviceGroupInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -449,6 +487,24 @@ public class VkBindImageMemoryDeviceGroupInfo extends Struct implements NativeRe
         /** Sets the address of the specified {@link VkRect2D.Buffer} to the {@code pSplitInstanceBindRegions} field. */
         public VkBindImageMemoryDeviceGroupInfo.Buffer pSplitInstanceBindRegions(@Nullable @NativeType("VkRect2D const *") VkRect2D.Buffer value) { VkBindImageMemoryDeviceGroupInfo.npSplitInstanceBindRegions(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer getSType(int[] dst) { gather(VkBindImageMemoryDeviceGroupInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer getSType(IntBuffer dst) { gather(VkBindImageMemoryDeviceGroupInfo.STYPE, dst); return this; }
+        /** Copies the {@code deviceIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer getDeviceIndexCount(int[] dst) { gather(VkBindImageMemoryDeviceGroupInfo.DEVICEINDEXCOUNT, dst); return this; }
+        /** Copies the {@code deviceIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer getDeviceIndexCount(IntBuffer dst) { gather(VkBindImageMemoryDeviceGroupInfo.DEVICEINDEXCOUNT, dst); return this; }
+        /** Copies the {@code splitInstanceBindRegionCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer getSplitInstanceBindRegionCount(int[] dst) { gather(VkBindImageMemoryDeviceGroupInfo.SPLITINSTANCEBINDREGIONCOUNT, dst); return this; }
+        /** Copies the {@code splitInstanceBindRegionCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer getSplitInstanceBindRegionCount(IntBuffer dst) { gather(VkBindImageMemoryDeviceGroupInfo.SPLITINSTANCEBINDREGIONCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer putSType(int[] src) { scatter(VkBindImageMemoryDeviceGroupInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImageMemoryDeviceGroupInfo.Buffer putSType(IntBuffer src) { scatter(VkBindImageMemoryDeviceGroupInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
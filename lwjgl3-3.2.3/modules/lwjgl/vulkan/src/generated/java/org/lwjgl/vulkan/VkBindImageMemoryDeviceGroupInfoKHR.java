@@ -187,6 +187,24 @@ public class VkBindImageMemoryDeviceGroupInfoKHR extends VkBindImageMemoryDevice
         return wrap(VkBindImageMemoryDeviceGroupInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindImageMemoryDeviceGroupInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkBindImageMemoryDeviceGroupInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindImageMemoryDeviceGroupInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkBindImageMemoryDeviceGroupInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindImageMemoryDeviceGroupInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -225,6 +243,26 @@ public class VkBindImageMemoryDeviceGroupInfoKHR extends VkBindImageMemoryDevice
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindImageMemoryDeviceGroupInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindImageMemoryDeviceGroupInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemoryDeviceGroupInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** An array of {@link VkBindImageMemoryDeviceGroupInfoKHR} structs. */
@@ -288,6 +288,24 @@ public class VkBindImageMemoryInfo extends Struct implements NativeResource {
         return wrap(VkBindImageMemoryInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindImageMemoryInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemoryInfo malloc(MemoryArena arena) {
+        return wrap(VkBindImageMemoryInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindImageMemoryInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemoryInfo calloc(MemoryArena arena) {
+        return wrap(VkBindImageMemoryInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindImageMemoryInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -326,6 +344,26 @@ public class VkBindImageMemoryInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindImageMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemoryInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindImageMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemoryInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -415,6 +453,40 @@ public class VkBindImageMemoryInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code memoryOffset} field. */
         public VkBindImageMemoryInfo.Buffer memoryOffset(@NativeType("VkDeviceSize") long value) { VkBindImageMemoryInfo.nmemoryOffset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryInfo.Buffer getSType(int[] dst) { gather(VkBindImageMemoryInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryInfo.Buffer getSType(IntBuffer dst) { gather(VkBindImageMemoryInfo.STYPE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryInfo.Buffer getImage(long[] dst) { gather(VkBindImageMemoryInfo.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryInfo.Buffer getImage(LongBuffer dst) { gather(VkBindImageMemoryInfo.IMAGE, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryInfo.Buffer getMemory(long[] dst) { gather(VkBindImageMemoryInfo.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryInfo.Buffer getMemory(LongBuffer dst) { gather(VkBindImageMemoryInfo.MEMORY, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemoryInfo.Buffer getMemoryOffset(long[] dst) { gather(VkBindImageMemoryInfo.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemoryInfo.Buffer getMemoryOffset(LongBuffer dst) { gather(VkBindImageMemoryInfo.MEMORYOFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putSType(int[] src) { scatter(VkBindImageMemoryInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putSType(IntBuffer src) { scatter(VkBindImageMemoryInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putImage(long[] src) { scatter(VkBindImageMemoryInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putImage(LongBuffer src) { scatter(VkBindImageMemoryInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putMemory(long[] src) { scatter(VkBindImageMemoryInfo.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putMemory(LongBuffer src) { scatter(VkBindImageMemoryInfo.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putMemoryOffset(long[] src) { scatter(VkBindImageMemoryInfo.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkBindImageMemoryInfo.Buffer putMemoryOffset(LongBuffer src) { scatter(VkBindImageMemoryInfo.MEMORYOFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -259,6 +259,24 @@ public class VkBindImageMemorySwapchainInfoKHR extends Struct implements NativeR
         return wrap(VkBindImageMemorySwapchainInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindImageMemorySwapchainInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemorySwapchainInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkBindImageMemorySwapchainInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindImageMemorySwapchainInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImageMemorySwapchainInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkBindImageMemorySwapchainInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindImageMemorySwapchainInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkBindImageMemorySwapchainInfoKHR extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindImageMemorySwapchainInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemorySwapchainInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindImageMemorySwapchainInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImageMemorySwapchainInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -377,6 +415,32 @@ public class VkBindImageMemorySwapchainInfoKHR extends Struct implements NativeR
         /** Sets the specified value to the {@code imageIndex} field. */
         public VkBindImageMemorySwapchainInfoKHR.Buffer imageIndex(@NativeType("uint32_t") int value) { VkBindImageMemorySwapchainInfoKHR.nimageIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer getSType(int[] dst) { gather(VkBindImageMemorySwapchainInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkBindImageMemorySwapchainInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code swapchain} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer getSwapchain(long[] dst) { gather(VkBindImageMemorySwapchainInfoKHR.SWAPCHAIN, dst); return this; }
+        /** Copies the {@code swapchain} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer getSwapchain(LongBuffer dst) { gather(VkBindImageMemorySwapchainInfoKHR.SWAPCHAIN, dst); return this; }
+        /** Copies the {@code imageIndex} field of the structs between the current position and limit to the specified array. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer getImageIndex(int[] dst) { gather(VkBindImageMemorySwapchainInfoKHR.IMAGEINDEX, dst); return this; }
+        /** Copies the {@code imageIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer getImageIndex(IntBuffer dst) { gather(VkBindImageMemorySwapchainInfoKHR.IMAGEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer putSType(int[] src) { scatter(VkBindImageMemorySwapchainInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkBindImageMemorySwapchainInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code swapchain} field of the structs between the current position and limit. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer putSwapchain(long[] src) { scatter(VkBindImageMemorySwapchainInfoKHR.SWAPCHAIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code swapchain} field of the structs between the current position and limit. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer putSwapchain(LongBuffer src) { scatter(VkBindImageMemorySwapchainInfoKHR.SWAPCHAIN, src); return this; }
+        /** Copies the values in the specified array to the {@code imageIndex} field of the structs between the current position and limit. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer putImageIndex(int[] src) { scatter(VkBindImageMemorySwapchainInfoKHR.IMAGEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageIndex} field of the structs between the current position and limit. */
+        public VkBindImageMemorySwapchainInfoKHR.Buffer putImageIndex(IntBuffer src) { scatter(VkBindImageMemorySwapchainInfoKHR.IMAGEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
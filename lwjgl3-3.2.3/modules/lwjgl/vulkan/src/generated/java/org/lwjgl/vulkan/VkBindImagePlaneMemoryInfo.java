@@ -237,6 +237,24 @@ public class VkBindImagePlaneMemoryInfo extends Struct implements NativeResource
         return wrap(VkBindImagePlaneMemoryInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindImagePlaneMemoryInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfo malloc(MemoryArena arena) {
+        return wrap(VkBindImagePlaneMemoryInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindImagePlaneMemoryInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfo calloc(MemoryArena arena) {
+        return wrap(VkBindImagePlaneMemoryInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindImagePlaneMemoryInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class VkBindImagePlaneMemoryInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindImagePlaneMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindImagePlaneMemoryInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -346,6 +384,24 @@ public class VkBindImagePlaneMemoryInfo extends Struct implements NativeResource
         /** Sets the specified value to the {@code planeAspect} field. */
         public VkBindImagePlaneMemoryInfo.Buffer planeAspect(@NativeType("VkImageAspectFlagBits") int value) { VkBindImagePlaneMemoryInfo.nplaneAspect(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindImagePlaneMemoryInfo.Buffer getSType(int[] dst) { gather(VkBindImagePlaneMemoryInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImagePlaneMemoryInfo.Buffer getSType(IntBuffer dst) { gather(VkBindImagePlaneMemoryInfo.STYPE, dst); return this; }
+        /** Copies the {@code planeAspect} field of the structs between the current position and limit to the specified array. */
+        public VkBindImagePlaneMemoryInfo.Buffer getPlaneAspect(int[] dst) { gather(VkBindImagePlaneMemoryInfo.PLANEASPECT, dst); return this; }
+        /** Copies the {@code planeAspect} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindImagePlaneMemoryInfo.Buffer getPlaneAspect(IntBuffer dst) { gather(VkBindImagePlaneMemoryInfo.PLANEASPECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImagePlaneMemoryInfo.Buffer putSType(int[] src) { scatter(VkBindImagePlaneMemoryInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindImagePlaneMemoryInfo.Buffer putSType(IntBuffer src) { scatter(VkBindImagePlaneMemoryInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code planeAspect} field of the structs between the current position and limit. */
+        public VkBindImagePlaneMemoryInfo.Buffer putPlaneAspect(int[] src) { scatter(VkBindImagePlaneMemoryInfo.PLANEASPECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code planeAspect} field of the structs between the current position and limit. */
+        public VkBindImagePlaneMemoryInfo.Buffer putPlaneAspect(IntBuffer src) { scatter(VkBindImagePlaneMemoryInfo.PLANEASPECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -178,6 +178,24 @@ public class VkBindImagePlaneMemoryInfoKHR extends VkBindImagePlaneMemoryInfo {
         return wrap(VkBindImagePlaneMemoryInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindImagePlaneMemoryInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkBindImagePlaneMemoryInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindImagePlaneMemoryInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkBindImagePlaneMemoryInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindImagePlaneMemoryInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -216,6 +234,26 @@ public class VkBindImagePlaneMemoryInfoKHR extends VkBindImagePlaneMemoryInfo {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindImagePlaneMemoryInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindImagePlaneMemoryInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindImagePlaneMemoryInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** An array of {@link VkBindImagePlaneMemoryInfoKHR} structs. */
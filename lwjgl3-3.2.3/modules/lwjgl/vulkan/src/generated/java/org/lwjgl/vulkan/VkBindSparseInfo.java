@@ -333,6 +333,24 @@ public class VkBindSparseInfo extends Struct implements NativeResource {
         return wrap(VkBindSparseInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBindSparseInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindSparseInfo malloc(MemoryArena arena) {
+        return wrap(VkBindSparseInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBindSparseInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBindSparseInfo calloc(MemoryArena arena) {
+        return wrap(VkBindSparseInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBindSparseInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -371,6 +389,26 @@ public class VkBindSparseInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBindSparseInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindSparseInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBindSparseInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBindSparseInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -562,6 +600,36 @@ public class VkBindSparseInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link LongBuffer} to the {@code pSignalSemaphores} field. */
         public VkBindSparseInfo.Buffer pSignalSemaphores(@Nullable @NativeType("VkSemaphore const *") LongBuffer value) { VkBindSparseInfo.npSignalSemaphores(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBindSparseInfo.Buffer getSType(int[] dst) { gather(VkBindSparseInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindSparseInfo.Buffer getSType(IntBuffer dst) { gather(VkBindSparseInfo.STYPE, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindSparseInfo.Buffer getWaitSemaphoreCount(int[] dst) { gather(VkBindSparseInfo.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindSparseInfo.Buffer getWaitSemaphoreCount(IntBuffer dst) { gather(VkBindSparseInfo.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code bufferBindCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindSparseInfo.Buffer getBufferBindCount(int[] dst) { gather(VkBindSparseInfo.BUFFERBINDCOUNT, dst); return this; }
+        /** Copies the {@code bufferBindCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindSparseInfo.Buffer getBufferBindCount(IntBuffer dst) { gather(VkBindSparseInfo.BUFFERBINDCOUNT, dst); return this; }
+        /** Copies the {@code imageOpaqueBindCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindSparseInfo.Buffer getImageOpaqueBindCount(int[] dst) { gather(VkBindSparseInfo.IMAGEOPAQUEBINDCOUNT, dst); return this; }
+        /** Copies the {@code imageOpaqueBindCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindSparseInfo.Buffer getImageOpaqueBindCount(IntBuffer dst) { gather(VkBindSparseInfo.IMAGEOPAQUEBINDCOUNT, dst); return this; }
+        /** Copies the {@code imageBindCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindSparseInfo.Buffer getImageBindCount(int[] dst) { gather(VkBindSparseInfo.IMAGEBINDCOUNT, dst); return this; }
+        /** Copies the {@code imageBindCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindSparseInfo.Buffer getImageBindCount(IntBuffer dst) { gather(VkBindSparseInfo.IMAGEBINDCOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkBindSparseInfo.Buffer getSignalSemaphoreCount(int[] dst) { gather(VkBindSparseInfo.SIGNALSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBindSparseInfo.Buffer getSignalSemaphoreCount(IntBuffer dst) { gather(VkBindSparseInfo.SIGNALSEMAPHORECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindSparseInfo.Buffer putSType(int[] src) { scatter(VkBindSparseInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBindSparseInfo.Buffer putSType(IntBuffer src) { scatter(VkBindSparseInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -232,6 +232,24 @@ public class VkBufferCopy extends Struct implements NativeResource {
         return wrap(VkBufferCopy.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferCopy} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferCopy malloc(MemoryArena arena) {
+        return wrap(VkBufferCopy.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferCopy} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferCopy calloc(MemoryArena arena) {
+        return wrap(VkBufferCopy.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferCopy.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class VkBufferCopy extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferCopy.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferCopy.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferCopy.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferCopy.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #srcOffset}. */
@@ -341,6 +379,32 @@ public class VkBufferCopy extends Struct implements NativeResource {
         /** Sets the specified value to the {@code size} field. */
         public VkBufferCopy.Buffer size(@NativeType("VkDeviceSize") long value) { VkBufferCopy.nsize(address(), value); return this; }
 
+        /** Copies the {@code srcOffset} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCopy.Buffer getSrcOffset(long[] dst) { gather(VkBufferCopy.SRCOFFSET, dst); return this; }
+        /** Copies the {@code srcOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCopy.Buffer getSrcOffset(LongBuffer dst) { gather(VkBufferCopy.SRCOFFSET, dst); return this; }
+        /** Copies the {@code dstOffset} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCopy.Buffer getDstOffset(long[] dst) { gather(VkBufferCopy.DSTOFFSET, dst); return this; }
+        /** Copies the {@code dstOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCopy.Buffer getDstOffset(LongBuffer dst) { gather(VkBufferCopy.DSTOFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCopy.Buffer getSize(long[] dst) { gather(VkBufferCopy.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCopy.Buffer getSize(LongBuffer dst) { gather(VkBufferCopy.SIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code srcOffset} field of the structs between the current position and limit. */
+        public VkBufferCopy.Buffer putSrcOffset(long[] src) { scatter(VkBufferCopy.SRCOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcOffset} field of the structs between the current position and limit. */
+        public VkBufferCopy.Buffer putSrcOffset(LongBuffer src) { scatter(VkBufferCopy.SRCOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code dstOffset} field of the structs between the current position and limit. */
+        public VkBufferCopy.Buffer putDstOffset(long[] src) { scatter(VkBufferCopy.DSTOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstOffset} field of the structs between the current position and limit. */
+        public VkBufferCopy.Buffer putDstOffset(LongBuffer src) { scatter(VkBufferCopy.DSTOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public VkBufferCopy.Buffer putSize(long[] src) { scatter(VkBufferCopy.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public VkBufferCopy.Buffer putSize(LongBuffer src) { scatter(VkBufferCopy.SIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
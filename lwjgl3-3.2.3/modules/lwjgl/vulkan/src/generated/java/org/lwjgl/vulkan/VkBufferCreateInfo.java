@@ -316,6 +316,24 @@ public class VkBufferCreateInfo extends Struct implements NativeResource {
         return wrap(VkBufferCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkBufferCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkBufferCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -354,6 +372,26 @@ public class VkBufferCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -492,6 +530,52 @@ public class VkBufferCreateInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pQueueFamilyIndices} field. */
         public VkBufferCreateInfo.Buffer pQueueFamilyIndices(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkBufferCreateInfo.npQueueFamilyIndices(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCreateInfo.Buffer getSType(int[] dst) { gather(VkBufferCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkBufferCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCreateInfo.Buffer getFlags(int[] dst) { gather(VkBufferCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkBufferCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCreateInfo.Buffer getSize(long[] dst) { gather(VkBufferCreateInfo.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCreateInfo.Buffer getSize(LongBuffer dst) { gather(VkBufferCreateInfo.SIZE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCreateInfo.Buffer getUsage(int[] dst) { gather(VkBufferCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCreateInfo.Buffer getUsage(IntBuffer dst) { gather(VkBufferCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code sharingMode} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCreateInfo.Buffer getSharingMode(int[] dst) { gather(VkBufferCreateInfo.SHARINGMODE, dst); return this; }
+        /** Copies the {@code sharingMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCreateInfo.Buffer getSharingMode(IntBuffer dst) { gather(VkBufferCreateInfo.SHARINGMODE, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkBufferCreateInfo.Buffer getQueueFamilyIndexCount(int[] dst) { gather(VkBufferCreateInfo.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferCreateInfo.Buffer getQueueFamilyIndexCount(IntBuffer dst) { gather(VkBufferCreateInfo.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putSType(int[] src) { scatter(VkBufferCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkBufferCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putFlags(int[] src) { scatter(VkBufferCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkBufferCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putSize(long[] src) { scatter(VkBufferCreateInfo.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putSize(LongBuffer src) { scatter(VkBufferCreateInfo.SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putUsage(int[] src) { scatter(VkBufferCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putUsage(IntBuffer src) { scatter(VkBufferCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code sharingMode} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putSharingMode(int[] src) { scatter(VkBufferCreateInfo.SHARINGMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sharingMode} field of the structs between the current position and limit. */
+        public VkBufferCreateInfo.Buffer putSharingMode(IntBuffer src) { scatter(VkBufferCreateInfo.SHARINGMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
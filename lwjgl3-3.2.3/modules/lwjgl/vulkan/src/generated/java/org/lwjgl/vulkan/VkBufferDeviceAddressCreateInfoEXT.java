@@ -245,6 +245,24 @@ public class VkBufferDeviceAddressCreateInfoEXT extends Struct implements Native
         return wrap(VkBufferDeviceAddressCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferDeviceAddressCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkBufferDeviceAddressCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferDeviceAddressCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkBufferDeviceAddressCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferDeviceAddressCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class VkBufferDeviceAddressCreateInfoEXT extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferDeviceAddressCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferDeviceAddressCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -354,6 +392,24 @@ public class VkBufferDeviceAddressCreateInfoEXT extends Struct implements Native
         /** Sets the specified value to the {@code deviceAddress} field. */
         public VkBufferDeviceAddressCreateInfoEXT.Buffer deviceAddress(@NativeType("VkDeviceAddress") long value) { VkBufferDeviceAddressCreateInfoEXT.ndeviceAddress(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkBufferDeviceAddressCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkBufferDeviceAddressCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code deviceAddress} field of the structs between the current position and limit to the specified array. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer getDeviceAddress(long[] dst) { gather(VkBufferDeviceAddressCreateInfoEXT.DEVICEADDRESS, dst); return this; }
+        /** Copies the {@code deviceAddress} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer getDeviceAddress(LongBuffer dst) { gather(VkBufferDeviceAddressCreateInfoEXT.DEVICEADDRESS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkBufferDeviceAddressCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkBufferDeviceAddressCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code deviceAddress} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer putDeviceAddress(long[] src) { scatter(VkBufferDeviceAddressCreateInfoEXT.DEVICEADDRESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code deviceAddress} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressCreateInfoEXT.Buffer putDeviceAddress(LongBuffer src) { scatter(VkBufferDeviceAddressCreateInfoEXT.DEVICEADDRESS, src); return this; }
+
     }
 
 }
\ No newline at end of file
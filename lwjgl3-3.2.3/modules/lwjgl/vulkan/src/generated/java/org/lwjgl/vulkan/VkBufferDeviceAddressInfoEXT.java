@@ -241,6 +241,24 @@ public class VkBufferDeviceAddressInfoEXT extends Struct implements NativeResour
         return wrap(VkBufferDeviceAddressInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferDeviceAddressInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkBufferDeviceAddressInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferDeviceAddressInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkBufferDeviceAddressInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferDeviceAddressInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -279,6 +297,26 @@ public class VkBufferDeviceAddressInfoEXT extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferDeviceAddressInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferDeviceAddressInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferDeviceAddressInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -350,6 +388,24 @@ public class VkBufferDeviceAddressInfoEXT extends Struct implements NativeResour
         /** Sets the specified value to the {@code buffer} field. */
         public VkBufferDeviceAddressInfoEXT.Buffer buffer(@NativeType("VkBuffer") long value) { VkBufferDeviceAddressInfoEXT.nbuffer(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBufferDeviceAddressInfoEXT.Buffer getSType(int[] dst) { gather(VkBufferDeviceAddressInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferDeviceAddressInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkBufferDeviceAddressInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkBufferDeviceAddressInfoEXT.Buffer getBuffer(long[] dst) { gather(VkBufferDeviceAddressInfoEXT.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferDeviceAddressInfoEXT.Buffer getBuffer(LongBuffer dst) { gather(VkBufferDeviceAddressInfoEXT.BUFFER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressInfoEXT.Buffer putSType(int[] src) { scatter(VkBufferDeviceAddressInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkBufferDeviceAddressInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressInfoEXT.Buffer putBuffer(long[] src) { scatter(VkBufferDeviceAddressInfoEXT.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferDeviceAddressInfoEXT.Buffer putBuffer(LongBuffer src) { scatter(VkBufferDeviceAddressInfoEXT.BUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -319,6 +319,24 @@ public class VkBufferImageCopy extends Struct implements NativeResource {
         return wrap(VkBufferImageCopy.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferImageCopy} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferImageCopy malloc(MemoryArena arena) {
+        return wrap(VkBufferImageCopy.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferImageCopy} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferImageCopy calloc(MemoryArena arena) {
+        return wrap(VkBufferImageCopy.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferImageCopy.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -357,6 +375,26 @@ public class VkBufferImageCopy extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferImageCopy.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferImageCopy.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferImageCopy.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferImageCopy.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #bufferOffset}. */
@@ -458,6 +496,32 @@ public class VkBufferImageCopy extends Struct implements NativeResource {
         /** Passes the {@code imageExtent} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkBufferImageCopy.Buffer imageExtent(java.util.function.Consumer<VkExtent3D> consumer) { consumer.accept(imageExtent()); return this; }
 
+        /** Copies the {@code bufferOffset} field of the structs between the current position and limit to the specified array. */
+        public VkBufferImageCopy.Buffer getBufferOffset(long[] dst) { gather(VkBufferImageCopy.BUFFEROFFSET, dst); return this; }
+        /** Copies the {@code bufferOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferImageCopy.Buffer getBufferOffset(LongBuffer dst) { gather(VkBufferImageCopy.BUFFEROFFSET, dst); return this; }
+        /** Copies the {@code bufferRowLength} field of the structs between the current position and limit to the specified array. */
+        public VkBufferImageCopy.Buffer getBufferRowLength(int[] dst) { gather(VkBufferImageCopy.BUFFERROWLENGTH, dst); return this; }
+        /** Copies the {@code bufferRowLength} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferImageCopy.Buffer getBufferRowLength(IntBuffer dst) { gather(VkBufferImageCopy.BUFFERROWLENGTH, dst); return this; }
+        /** Copies the {@code bufferImageHeight} field of the structs between the current position and limit to the specified array. */
+        public VkBufferImageCopy.Buffer getBufferImageHeight(int[] dst) { gather(VkBufferImageCopy.BUFFERIMAGEHEIGHT, dst); return this; }
+        /** Copies the {@code bufferImageHeight} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferImageCopy.Buffer getBufferImageHeight(IntBuffer dst) { gather(VkBufferImageCopy.BUFFERIMAGEHEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code bufferOffset} field of the structs between the current position and limit. */
+        public VkBufferImageCopy.Buffer putBufferOffset(long[] src) { scatter(VkBufferImageCopy.BUFFEROFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bufferOffset} field of the structs between the current position and limit. */
+        public VkBufferImageCopy.Buffer putBufferOffset(LongBuffer src) { scatter(VkBufferImageCopy.BUFFEROFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code bufferRowLength} field of the structs between the current position and limit. */
+        public VkBufferImageCopy.Buffer putBufferRowLength(int[] src) { scatter(VkBufferImageCopy.BUFFERROWLENGTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bufferRowLength} field of the structs between the current position and limit. */
+        public VkBufferImageCopy.Buffer putBufferRowLength(IntBuffer src) { scatter(VkBufferImageCopy.BUFFERROWLENGTH, src); return this; }
+        /** Copies the values in the specified array to the {@code bufferImageHeight} field of the structs between the current position and limit. */
+        public VkBufferImageCopy.Buffer putBufferImageHeight(int[] src) { scatter(VkBufferImageCopy.BUFFERIMAGEHEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bufferImageHeight} field of the structs between the current position and limit. */
+        public VkBufferImageCopy.Buffer putBufferImageHeight(IntBuffer src) { scatter(VkBufferImageCopy.BUFFERIMAGEHEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
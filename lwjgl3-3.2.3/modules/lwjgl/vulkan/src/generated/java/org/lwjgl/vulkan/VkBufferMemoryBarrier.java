@@ -333,6 +333,24 @@ public class VkBufferMemoryBarrier extends Struct implements NativeResource {
         return wrap(VkBufferMemoryBarrier.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferMemoryBarrier} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferMemoryBarrier malloc(MemoryArena arena) {
+        return wrap(VkBufferMemoryBarrier.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferMemoryBarrier} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferMemoryBarrier calloc(MemoryArena arena) {
+        return wrap(VkBufferMemoryBarrier.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferMemoryBarrier.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -371,6 +389,26 @@ public class VkBufferMemoryBarrier extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferMemoryBarrier.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferMemoryBarrier.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferMemoryBarrier.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferMemoryBarrier.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -496,6 +534,72 @@ public class VkBufferMemoryBarrier extends Struct implements NativeResource {
         /** Sets the specified value to the {@code size} field. */
         public VkBufferMemoryBarrier.Buffer size(@NativeType("VkDeviceSize") long value) { VkBufferMemoryBarrier.nsize(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getSType(int[] dst) { gather(VkBufferMemoryBarrier.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getSType(IntBuffer dst) { gather(VkBufferMemoryBarrier.STYPE, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getSrcAccessMask(int[] dst) { gather(VkBufferMemoryBarrier.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getSrcAccessMask(IntBuffer dst) { gather(VkBufferMemoryBarrier.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getDstAccessMask(int[] dst) { gather(VkBufferMemoryBarrier.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getDstAccessMask(IntBuffer dst) { gather(VkBufferMemoryBarrier.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code srcQueueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getSrcQueueFamilyIndex(int[] dst) { gather(VkBufferMemoryBarrier.SRCQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code srcQueueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getSrcQueueFamilyIndex(IntBuffer dst) { gather(VkBufferMemoryBarrier.SRCQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code dstQueueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getDstQueueFamilyIndex(int[] dst) { gather(VkBufferMemoryBarrier.DSTQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code dstQueueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getDstQueueFamilyIndex(IntBuffer dst) { gather(VkBufferMemoryBarrier.DSTQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getBuffer(long[] dst) { gather(VkBufferMemoryBarrier.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getBuffer(LongBuffer dst) { gather(VkBufferMemoryBarrier.BUFFER, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getOffset(long[] dst) { gather(VkBufferMemoryBarrier.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getOffset(LongBuffer dst) { gather(VkBufferMemoryBarrier.OFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryBarrier.Buffer getSize(long[] dst) { gather(VkBufferMemoryBarrier.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryBarrier.Buffer getSize(LongBuffer dst) { gather(VkBufferMemoryBarrier.SIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSType(int[] src) { scatter(VkBufferMemoryBarrier.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSType(IntBuffer src) { scatter(VkBufferMemoryBarrier.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSrcAccessMask(int[] src) { scatter(VkBufferMemoryBarrier.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSrcAccessMask(IntBuffer src) { scatter(VkBufferMemoryBarrier.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putDstAccessMask(int[] src) { scatter(VkBufferMemoryBarrier.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putDstAccessMask(IntBuffer src) { scatter(VkBufferMemoryBarrier.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code srcQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSrcQueueFamilyIndex(int[] src) { scatter(VkBufferMemoryBarrier.SRCQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSrcQueueFamilyIndex(IntBuffer src) { scatter(VkBufferMemoryBarrier.SRCQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code dstQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putDstQueueFamilyIndex(int[] src) { scatter(VkBufferMemoryBarrier.DSTQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putDstQueueFamilyIndex(IntBuffer src) { scatter(VkBufferMemoryBarrier.DSTQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putBuffer(long[] src) { scatter(VkBufferMemoryBarrier.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putBuffer(LongBuffer src) { scatter(VkBufferMemoryBarrier.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putOffset(long[] src) { scatter(VkBufferMemoryBarrier.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putOffset(LongBuffer src) { scatter(VkBufferMemoryBarrier.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSize(long[] src) { scatter(VkBufferMemoryBarrier.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public VkBufferMemoryBarrier.Buffer putSize(LongBuffer src) { scatter(VkBufferMemoryBarrier.SIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
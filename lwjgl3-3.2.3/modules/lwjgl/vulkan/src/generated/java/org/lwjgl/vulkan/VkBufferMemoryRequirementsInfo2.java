@@ -234,6 +234,24 @@ public class VkBufferMemoryRequirementsInfo2 extends Struct implements NativeRes
         return wrap(VkBufferMemoryRequirementsInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferMemoryRequirementsInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferMemoryRequirementsInfo2 malloc(MemoryArena arena) {
+        return wrap(VkBufferMemoryRequirementsInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferMemoryRequirementsInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferMemoryRequirementsInfo2 calloc(MemoryArena arena) {
+        return wrap(VkBufferMemoryRequirementsInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferMemoryRequirementsInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkBufferMemoryRequirementsInfo2 extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferMemoryRequirementsInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferMemoryRequirementsInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferMemoryRequirementsInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferMemoryRequirementsInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkBufferMemoryRequirementsInfo2 extends Struct implements NativeRes
         /** Sets the specified value to the {@code buffer} field. */
         public VkBufferMemoryRequirementsInfo2.Buffer buffer(@NativeType("VkBuffer") long value) { VkBufferMemoryRequirementsInfo2.nbuffer(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryRequirementsInfo2.Buffer getSType(int[] dst) { gather(VkBufferMemoryRequirementsInfo2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryRequirementsInfo2.Buffer getSType(IntBuffer dst) { gather(VkBufferMemoryRequirementsInfo2.STYPE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkBufferMemoryRequirementsInfo2.Buffer getBuffer(long[] dst) { gather(VkBufferMemoryRequirementsInfo2.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferMemoryRequirementsInfo2.Buffer getBuffer(LongBuffer dst) { gather(VkBufferMemoryRequirementsInfo2.BUFFER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferMemoryRequirementsInfo2.Buffer putSType(int[] src) { scatter(VkBufferMemoryRequirementsInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferMemoryRequirementsInfo2.Buffer putSType(IntBuffer src) { scatter(VkBufferMemoryRequirementsInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferMemoryRequirementsInfo2.Buffer putBuffer(long[] src) { scatter(VkBufferMemoryRequirementsInfo2.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferMemoryRequirementsInfo2.Buffer putBuffer(LongBuffer src) { scatter(VkBufferMemoryRequirementsInfo2.BUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
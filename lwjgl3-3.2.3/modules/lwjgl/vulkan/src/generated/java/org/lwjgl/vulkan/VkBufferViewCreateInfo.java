@@ -301,6 +301,24 @@ public class VkBufferViewCreateInfo extends Struct implements NativeResource {
         return wrap(VkBufferViewCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkBufferViewCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferViewCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkBufferViewCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkBufferViewCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkBufferViewCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkBufferViewCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkBufferViewCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -339,6 +357,26 @@ public class VkBufferViewCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkBufferViewCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferViewCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkBufferViewCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkBufferViewCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -446,6 +484,56 @@ public class VkBufferViewCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code range} field. */
         public VkBufferViewCreateInfo.Buffer range(@NativeType("VkDeviceSize") long value) { VkBufferViewCreateInfo.nrange(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkBufferViewCreateInfo.Buffer getSType(int[] dst) { gather(VkBufferViewCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferViewCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkBufferViewCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkBufferViewCreateInfo.Buffer getFlags(int[] dst) { gather(VkBufferViewCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferViewCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkBufferViewCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkBufferViewCreateInfo.Buffer getBuffer(long[] dst) { gather(VkBufferViewCreateInfo.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferViewCreateInfo.Buffer getBuffer(LongBuffer dst) { gather(VkBufferViewCreateInfo.BUFFER, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkBufferViewCreateInfo.Buffer getFormat(int[] dst) { gather(VkBufferViewCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferViewCreateInfo.Buffer getFormat(IntBuffer dst) { gather(VkBufferViewCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkBufferViewCreateInfo.Buffer getOffset(long[] dst) { gather(VkBufferViewCreateInfo.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferViewCreateInfo.Buffer getOffset(LongBuffer dst) { gather(VkBufferViewCreateInfo.OFFSET, dst); return this; }
+        /** Copies the {@code range} field of the structs between the current position and limit to the specified array. */
+        public VkBufferViewCreateInfo.Buffer getRange(long[] dst) { gather(VkBufferViewCreateInfo.RANGE, dst); return this; }
+        /** Copies the {@code range} field of the structs between the current position and limit to the specified buffer. */
+        public VkBufferViewCreateInfo.Buffer getRange(LongBuffer dst) { gather(VkBufferViewCreateInfo.RANGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putSType(int[] src) { scatter(VkBufferViewCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkBufferViewCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putFlags(int[] src) { scatter(VkBufferViewCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkBufferViewCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putBuffer(long[] src) { scatter(VkBufferViewCreateInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putBuffer(LongBuffer src) { scatter(VkBufferViewCreateInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putFormat(int[] src) { scatter(VkBufferViewCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putFormat(IntBuffer src) { scatter(VkBufferViewCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putOffset(long[] src) { scatter(VkBufferViewCreateInfo.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putOffset(LongBuffer src) { scatter(VkBufferViewCreateInfo.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code range} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putRange(long[] src) { scatter(VkBufferViewCreateInfo.RANGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code range} field of the structs between the current position and limit. */
+        public VkBufferViewCreateInfo.Buffer putRange(LongBuffer src) { scatter(VkBufferViewCreateInfo.RANGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
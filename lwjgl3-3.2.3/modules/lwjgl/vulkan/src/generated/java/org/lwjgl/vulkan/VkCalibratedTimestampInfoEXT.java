@@ -240,6 +240,24 @@ public class VkCalibratedTimestampInfoEXT extends Struct implements NativeResour
         return wrap(VkCalibratedTimestampInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCalibratedTimestampInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCalibratedTimestampInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkCalibratedTimestampInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCalibratedTimestampInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCalibratedTimestampInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkCalibratedTimestampInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCalibratedTimestampInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class VkCalibratedTimestampInfoEXT extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCalibratedTimestampInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCalibratedTimestampInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCalibratedTimestampInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCalibratedTimestampInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -349,6 +387,24 @@ public class VkCalibratedTimestampInfoEXT extends Struct implements NativeResour
         /** Sets the specified value to the {@code timeDomain} field. */
         public VkCalibratedTimestampInfoEXT.Buffer timeDomain(@NativeType("VkTimeDomainEXT") int value) { VkCalibratedTimestampInfoEXT.ntimeDomain(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCalibratedTimestampInfoEXT.Buffer getSType(int[] dst) { gather(VkCalibratedTimestampInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCalibratedTimestampInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkCalibratedTimestampInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code timeDomain} field of the structs between the current position and limit to the specified array. */
+        public VkCalibratedTimestampInfoEXT.Buffer getTimeDomain(int[] dst) { gather(VkCalibratedTimestampInfoEXT.TIMEDOMAIN, dst); return this; }
+        /** Copies the {@code timeDomain} field of the structs between the current position and limit to the specified buffer. */
+        public VkCalibratedTimestampInfoEXT.Buffer getTimeDomain(IntBuffer dst) { gather(VkCalibratedTimestampInfoEXT.TIMEDOMAIN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCalibratedTimestampInfoEXT.Buffer putSType(int[] src) { scatter(VkCalibratedTimestampInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCalibratedTimestampInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkCalibratedTimestampInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code timeDomain} field of the structs between the current position and limit. */
+        public VkCalibratedTimestampInfoEXT.Buffer putTimeDomain(int[] src) { scatter(VkCalibratedTimestampInfoEXT.TIMEDOMAIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code timeDomain} field of the structs between the current position and limit. */
+        public VkCalibratedTimestampInfoEXT.Buffer putTimeDomain(IntBuffer src) { scatter(VkCalibratedTimestampInfoEXT.TIMEDOMAIN, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -239,6 +239,24 @@ public class VkCheckpointDataNV extends Struct implements NativeResource {
         return wrap(VkCheckpointDataNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCheckpointDataNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCheckpointDataNV malloc(MemoryArena arena) {
+        return wrap(VkCheckpointDataNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCheckpointDataNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCheckpointDataNV calloc(MemoryArena arena) {
+        return wrap(VkCheckpointDataNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCheckpointDataNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VkCheckpointDataNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCheckpointDataNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCheckpointDataNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCheckpointDataNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCheckpointDataNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -349,6 +387,20 @@ public class VkCheckpointDataNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pNext} field. */
         public VkCheckpointDataNV.Buffer pNext(@NativeType("void *") long value) { VkCheckpointDataNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCheckpointDataNV.Buffer getSType(int[] dst) { gather(VkCheckpointDataNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCheckpointDataNV.Buffer getSType(IntBuffer dst) { gather(VkCheckpointDataNV.STYPE, dst); return this; }
+        /** Copies the {@code stage} field of the structs between the current position and limit to the specified array. */
+        public VkCheckpointDataNV.Buffer getStage(int[] dst) { gather(VkCheckpointDataNV.STAGE, dst); return this; }
+        /** Copies the {@code stage} field of the structs between the current position and limit to the specified buffer. */
+        public VkCheckpointDataNV.Buffer getStage(IntBuffer dst) { gather(VkCheckpointDataNV.STAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCheckpointDataNV.Buffer putSType(int[] src) { scatter(VkCheckpointDataNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCheckpointDataNV.Buffer putSType(IntBuffer src) { scatter(VkCheckpointDataNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -251,6 +251,24 @@ public class VkClearAttachment extends Struct implements NativeResource {
         return wrap(VkClearAttachment.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkClearAttachment} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkClearAttachment malloc(MemoryArena arena) {
+        return wrap(VkClearAttachment.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkClearAttachment} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkClearAttachment calloc(MemoryArena arena) {
+        return wrap(VkClearAttachment.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkClearAttachment.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -289,6 +307,26 @@ public class VkClearAttachment extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkClearAttachment.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkClearAttachment.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkClearAttachment.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkClearAttachment.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #aspectMask}. */
@@ -361,6 +399,24 @@ public class VkClearAttachment extends Struct implements NativeResource {
         /** Passes the {@code clearValue} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkClearAttachment.Buffer clearValue(java.util.function.Consumer<VkClearValue> consumer) { consumer.accept(clearValue()); return this; }
 
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkClearAttachment.Buffer getAspectMask(int[] dst) { gather(VkClearAttachment.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkClearAttachment.Buffer getAspectMask(IntBuffer dst) { gather(VkClearAttachment.ASPECTMASK, dst); return this; }
+        /** Copies the {@code colorAttachment} field of the structs between the current position and limit to the specified array. */
+        public VkClearAttachment.Buffer getColorAttachment(int[] dst) { gather(VkClearAttachment.COLORATTACHMENT, dst); return this; }
+        /** Copies the {@code colorAttachment} field of the structs between the current position and limit to the specified buffer. */
+        public VkClearAttachment.Buffer getColorAttachment(IntBuffer dst) { gather(VkClearAttachment.COLORATTACHMENT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkClearAttachment.Buffer putAspectMask(int[] src) { scatter(VkClearAttachment.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkClearAttachment.Buffer putAspectMask(IntBuffer src) { scatter(VkClearAttachment.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code colorAttachment} field of the structs between the current position and limit. */
+        public VkClearAttachment.Buffer putColorAttachment(int[] src) { scatter(VkClearAttachment.COLORATTACHMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code colorAttachment} field of the structs between the current position and limit. */
+        public VkClearAttachment.Buffer putColorAttachment(IntBuffer src) { scatter(VkClearAttachment.COLORATTACHMENT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -219,6 +219,24 @@ public class VkClearDepthStencilValue extends Struct implements NativeResource {
         return wrap(VkClearDepthStencilValue.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkClearDepthStencilValue} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkClearDepthStencilValue malloc(MemoryArena arena) {
+        return wrap(VkClearDepthStencilValue.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkClearDepthStencilValue} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkClearDepthStencilValue calloc(MemoryArena arena) {
+        return wrap(VkClearDepthStencilValue.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkClearDepthStencilValue.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -257,6 +275,26 @@ public class VkClearDepthStencilValue extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkClearDepthStencilValue.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkClearDepthStencilValue.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkClearDepthStencilValue.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkClearDepthStencilValue.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #depth}. */
@@ -318,6 +356,24 @@ public class VkClearDepthStencilValue extends Struct implements NativeResource {
         /** Sets the specified value to the {@code stencil} field. */
         public VkClearDepthStencilValue.Buffer stencil(@NativeType("uint32_t") int value) { VkClearDepthStencilValue.nstencil(address(), value); return this; }
 
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified array. */
+        public VkClearDepthStencilValue.Buffer getDepth(float[] dst) { gather(VkClearDepthStencilValue.DEPTH, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified buffer. */
+        public VkClearDepthStencilValue.Buffer getDepth(FloatBuffer dst) { gather(VkClearDepthStencilValue.DEPTH, dst); return this; }
+        /** Copies the {@code stencil} field of the structs between the current position and limit to the specified array. */
+        public VkClearDepthStencilValue.Buffer getStencil(int[] dst) { gather(VkClearDepthStencilValue.STENCIL, dst); return this; }
+        /** Copies the {@code stencil} field of the structs between the current position and limit to the specified buffer. */
+        public VkClearDepthStencilValue.Buffer getStencil(IntBuffer dst) { gather(VkClearDepthStencilValue.STENCIL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code depth} field of the structs between the current position and limit. */
+        public VkClearDepthStencilValue.Buffer putDepth(float[] src) { scatter(VkClearDepthStencilValue.DEPTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depth} field of the structs between the current position and limit. */
+        public VkClearDepthStencilValue.Buffer putDepth(FloatBuffer src) { scatter(VkClearDepthStencilValue.DEPTH, src); return this; }
+        /** Copies the values in the specified array to the {@code stencil} field of the structs between the current position and limit. */
+        public VkClearDepthStencilValue.Buffer putStencil(int[] src) { scatter(VkClearDepthStencilValue.STENCIL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencil} field of the structs between the current position and limit. */
+        public VkClearDepthStencilValue.Buffer putStencil(IntBuffer src) { scatter(VkClearDepthStencilValue.STENCIL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -231,6 +231,24 @@ public class VkClearRect extends Struct implements NativeResource {
         return wrap(VkClearRect.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkClearRect} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkClearRect malloc(MemoryArena arena) {
+        return wrap(VkClearRect.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkClearRect} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkClearRect calloc(MemoryArena arena) {
+        return wrap(VkClearRect.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkClearRect.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class VkClearRect extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkClearRect.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkClearRect.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkClearRect.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkClearRect.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #rect}. */
@@ -341,6 +379,24 @@ public class VkClearRect extends Struct implements NativeResource {
         /** Sets the specified value to the {@code layerCount} field. */
         public VkClearRect.Buffer layerCount(@NativeType("uint32_t") int value) { VkClearRect.nlayerCount(address(), value); return this; }
 
+        /** Copies the {@code baseArrayLayer} field of the structs between the current position and limit to the specified array. */
+        public VkClearRect.Buffer getBaseArrayLayer(int[] dst) { gather(VkClearRect.BASEARRAYLAYER, dst); return this; }
+        /** Copies the {@code baseArrayLayer} field of the structs between the current position and limit to the specified buffer. */
+        public VkClearRect.Buffer getBaseArrayLayer(IntBuffer dst) { gather(VkClearRect.BASEARRAYLAYER, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified array. */
+        public VkClearRect.Buffer getLayerCount(int[] dst) { gather(VkClearRect.LAYERCOUNT, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkClearRect.Buffer getLayerCount(IntBuffer dst) { gather(VkClearRect.LAYERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code baseArrayLayer} field of the structs between the current position and limit. */
+        public VkClearRect.Buffer putBaseArrayLayer(int[] src) { scatter(VkClearRect.BASEARRAYLAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code baseArrayLayer} field of the structs between the current position and limit. */
+        public VkClearRect.Buffer putBaseArrayLayer(IntBuffer src) { scatter(VkClearRect.BASEARRAYLAYER, src); return this; }
+        /** Copies the values in the specified array to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkClearRect.Buffer putLayerCount(int[] src) { scatter(VkClearRect.LAYERCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkClearRect.Buffer putLayerCount(IntBuffer src) { scatter(VkClearRect.LAYERCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -370,6 +370,24 @@ public class VkCmdProcessCommandsInfoNVX extends Struct implements NativeResourc
         return wrap(VkCmdProcessCommandsInfoNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCmdProcessCommandsInfoNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCmdProcessCommandsInfoNVX malloc(MemoryArena arena) {
+        return wrap(VkCmdProcessCommandsInfoNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCmdProcessCommandsInfoNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCmdProcessCommandsInfoNVX calloc(MemoryArena arena) {
+        return wrap(VkCmdProcessCommandsInfoNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCmdProcessCommandsInfoNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -408,6 +426,26 @@ public class VkCmdProcessCommandsInfoNVX extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCmdProcessCommandsInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCmdProcessCommandsInfoNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCmdProcessCommandsInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCmdProcessCommandsInfoNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -580,6 +618,76 @@ public class VkCmdProcessCommandsInfoNVX extends Struct implements NativeResourc
         /** Sets the specified value to the {@code sequencesIndexOffset} field. */
         public VkCmdProcessCommandsInfoNVX.Buffer sequencesIndexOffset(@NativeType("VkDeviceSize") long value) { VkCmdProcessCommandsInfoNVX.nsequencesIndexOffset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSType(int[] dst) { gather(VkCmdProcessCommandsInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSType(IntBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code objectTable} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getObjectTable(long[] dst) { gather(VkCmdProcessCommandsInfoNVX.OBJECTTABLE, dst); return this; }
+        /** Copies the {@code objectTable} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getObjectTable(LongBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.OBJECTTABLE, dst); return this; }
+        /** Copies the {@code indirectCommandsLayout} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getIndirectCommandsLayout(long[] dst) { gather(VkCmdProcessCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, dst); return this; }
+        /** Copies the {@code indirectCommandsLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getIndirectCommandsLayout(LongBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, dst); return this; }
+        /** Copies the {@code indirectCommandsTokenCount} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getIndirectCommandsTokenCount(int[] dst) { gather(VkCmdProcessCommandsInfoNVX.INDIRECTCOMMANDSTOKENCOUNT, dst); return this; }
+        /** Copies the {@code indirectCommandsTokenCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getIndirectCommandsTokenCount(IntBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.INDIRECTCOMMANDSTOKENCOUNT, dst); return this; }
+        /** Copies the {@code maxSequencesCount} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getMaxSequencesCount(int[] dst) { gather(VkCmdProcessCommandsInfoNVX.MAXSEQUENCESCOUNT, dst); return this; }
+        /** Copies the {@code maxSequencesCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getMaxSequencesCount(IntBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.MAXSEQUENCESCOUNT, dst); return this; }
+        /** Copies the {@code sequencesCountBuffer} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesCountBuffer(long[] dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTBUFFER, dst); return this; }
+        /** Copies the {@code sequencesCountBuffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesCountBuffer(LongBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTBUFFER, dst); return this; }
+        /** Copies the {@code sequencesCountOffset} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesCountOffset(long[] dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTOFFSET, dst); return this; }
+        /** Copies the {@code sequencesCountOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesCountOffset(LongBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTOFFSET, dst); return this; }
+        /** Copies the {@code sequencesIndexBuffer} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesIndexBuffer(long[] dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXBUFFER, dst); return this; }
+        /** Copies the {@code sequencesIndexBuffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesIndexBuffer(LongBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXBUFFER, dst); return this; }
+        /** Copies the {@code sequencesIndexOffset} field of the structs between the current position and limit to the specified array. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesIndexOffset(long[] dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXOFFSET, dst); return this; }
+        /** Copies the {@code sequencesIndexOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdProcessCommandsInfoNVX.Buffer getSequencesIndexOffset(LongBuffer dst) { gather(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXOFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSType(int[] src) { scatter(VkCmdProcessCommandsInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSType(IntBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectTable} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putObjectTable(long[] src) { scatter(VkCmdProcessCommandsInfoNVX.OBJECTTABLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectTable} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putObjectTable(LongBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.OBJECTTABLE, src); return this; }
+        /** Copies the values in the specified array to the {@code indirectCommandsLayout} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putIndirectCommandsLayout(long[] src) { scatter(VkCmdProcessCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indirectCommandsLayout} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putIndirectCommandsLayout(LongBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code maxSequencesCount} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putMaxSequencesCount(int[] src) { scatter(VkCmdProcessCommandsInfoNVX.MAXSEQUENCESCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxSequencesCount} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putMaxSequencesCount(IntBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.MAXSEQUENCESCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code sequencesCountBuffer} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesCountBuffer(long[] src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTBUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sequencesCountBuffer} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesCountBuffer(LongBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTBUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code sequencesCountOffset} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesCountOffset(long[] src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sequencesCountOffset} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesCountOffset(LongBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESCOUNTOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code sequencesIndexBuffer} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesIndexBuffer(long[] src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXBUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sequencesIndexBuffer} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesIndexBuffer(LongBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXBUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code sequencesIndexOffset} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesIndexOffset(long[] src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sequencesIndexOffset} field of the structs between the current position and limit. */
+        public VkCmdProcessCommandsInfoNVX.Buffer putSequencesIndexOffset(LongBuffer src) { scatter(VkCmdProcessCommandsInfoNVX.SEQUENCESINDEXOFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
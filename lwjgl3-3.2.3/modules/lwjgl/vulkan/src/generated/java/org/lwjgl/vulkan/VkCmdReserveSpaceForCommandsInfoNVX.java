@@ -266,6 +266,24 @@ public class VkCmdReserveSpaceForCommandsInfoNVX extends Struct implements Nativ
         return wrap(VkCmdReserveSpaceForCommandsInfoNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCmdReserveSpaceForCommandsInfoNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCmdReserveSpaceForCommandsInfoNVX malloc(MemoryArena arena) {
+        return wrap(VkCmdReserveSpaceForCommandsInfoNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCmdReserveSpaceForCommandsInfoNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCmdReserveSpaceForCommandsInfoNVX calloc(MemoryArena arena) {
+        return wrap(VkCmdReserveSpaceForCommandsInfoNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCmdReserveSpaceForCommandsInfoNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -304,6 +322,26 @@ public class VkCmdReserveSpaceForCommandsInfoNVX extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCmdReserveSpaceForCommandsInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCmdReserveSpaceForCommandsInfoNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCmdReserveSpaceForCommandsInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCmdReserveSpaceForCommandsInfoNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -393,6 +431,40 @@ public class VkCmdReserveSpaceForCommandsInfoNVX extends Struct implements Nativ
         /** Sets the specified value to the {@code maxSequencesCount} field. */
         public VkCmdReserveSpaceForCommandsInfoNVX.Buffer maxSequencesCount(@NativeType("uint32_t") int value) { VkCmdReserveSpaceForCommandsInfoNVX.nmaxSequencesCount(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getSType(int[] dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getSType(IntBuffer dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code objectTable} field of the structs between the current position and limit to the specified array. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getObjectTable(long[] dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.OBJECTTABLE, dst); return this; }
+        /** Copies the {@code objectTable} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getObjectTable(LongBuffer dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.OBJECTTABLE, dst); return this; }
+        /** Copies the {@code indirectCommandsLayout} field of the structs between the current position and limit to the specified array. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getIndirectCommandsLayout(long[] dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, dst); return this; }
+        /** Copies the {@code indirectCommandsLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getIndirectCommandsLayout(LongBuffer dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, dst); return this; }
+        /** Copies the {@code maxSequencesCount} field of the structs between the current position and limit to the specified array. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getMaxSequencesCount(int[] dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.MAXSEQUENCESCOUNT, dst); return this; }
+        /** Copies the {@code maxSequencesCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer getMaxSequencesCount(IntBuffer dst) { gather(VkCmdReserveSpaceForCommandsInfoNVX.MAXSEQUENCESCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putSType(int[] src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putSType(IntBuffer src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectTable} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putObjectTable(long[] src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.OBJECTTABLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectTable} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putObjectTable(LongBuffer src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.OBJECTTABLE, src); return this; }
+        /** Copies the values in the specified array to the {@code indirectCommandsLayout} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putIndirectCommandsLayout(long[] src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indirectCommandsLayout} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putIndirectCommandsLayout(LongBuffer src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.INDIRECTCOMMANDSLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code maxSequencesCount} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putMaxSequencesCount(int[] src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.MAXSEQUENCESCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxSequencesCount} field of the structs between the current position and limit. */
+        public VkCmdReserveSpaceForCommandsInfoNVX.Buffer putMaxSequencesCount(IntBuffer src) { scatter(VkCmdReserveSpaceForCommandsInfoNVX.MAXSEQUENCESCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkCoarseSampleLocationNV extends Struct implements NativeResource {
         return wrap(VkCoarseSampleLocationNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCoarseSampleLocationNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCoarseSampleLocationNV malloc(MemoryArena arena) {
+        return wrap(VkCoarseSampleLocationNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCoarseSampleLocationNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCoarseSampleLocationNV calloc(MemoryArena arena) {
+        return wrap(VkCoarseSampleLocationNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCoarseSampleLocationNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkCoarseSampleLocationNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCoarseSampleLocationNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCoarseSampleLocationNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCoarseSampleLocationNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCoarseSampleLocationNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #pixelX}. */
@@ -343,6 +381,32 @@ public class VkCoarseSampleLocationNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code sample} field. */
         public VkCoarseSampleLocationNV.Buffer sample(@NativeType("uint32_t") int value) { VkCoarseSampleLocationNV.nsample(address(), value); return this; }
 
+        /** Copies the {@code pixelX} field of the structs between the current position and limit to the specified array. */
+        public VkCoarseSampleLocationNV.Buffer getPixelX(int[] dst) { gather(VkCoarseSampleLocationNV.PIXELX, dst); return this; }
+        /** Copies the {@code pixelX} field of the structs between the current position and limit to the specified buffer. */
+        public VkCoarseSampleLocationNV.Buffer getPixelX(IntBuffer dst) { gather(VkCoarseSampleLocationNV.PIXELX, dst); return this; }
+        /** Copies the {@code pixelY} field of the structs between the current position and limit to the specified array. */
+        public VkCoarseSampleLocationNV.Buffer getPixelY(int[] dst) { gather(VkCoarseSampleLocationNV.PIXELY, dst); return this; }
+        /** Copies the {@code pixelY} field of the structs between the current position and limit to the specified buffer. */
+        public VkCoarseSampleLocationNV.Buffer getPixelY(IntBuffer dst) { gather(VkCoarseSampleLocationNV.PIXELY, dst); return this; }
+        /** Copies the {@code sample} field of the structs between the current position and limit to the specified array. */
+        public VkCoarseSampleLocationNV.Buffer getSample(int[] dst) { gather(VkCoarseSampleLocationNV.SAMPLE, dst); return this; }
+        /** Copies the {@code sample} field of the structs between the current position and limit to the specified buffer. */
+        public VkCoarseSampleLocationNV.Buffer getSample(IntBuffer dst) { gather(VkCoarseSampleLocationNV.SAMPLE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code pixelX} field of the structs between the current position and limit. */
+        public VkCoarseSampleLocationNV.Buffer putPixelX(int[] src) { scatter(VkCoarseSampleLocationNV.PIXELX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pixelX} field of the structs between the current position and limit. */
+        public VkCoarseSampleLocationNV.Buffer putPixelX(IntBuffer src) { scatter(VkCoarseSampleLocationNV.PIXELX, src); return this; }
+        /** Copies the values in the specified array to the {@code pixelY} field of the structs between the current position and limit. */
+        public VkCoarseSampleLocationNV.Buffer putPixelY(int[] src) { scatter(VkCoarseSampleLocationNV.PIXELY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pixelY} field of the structs between the current position and limit. */
+        public VkCoarseSampleLocationNV.Buffer putPixelY(IntBuffer src) { scatter(VkCoarseSampleLocationNV.PIXELY, src); return this; }
+        /** Copies the values in the specified array to the {@code sample} field of the structs between the current position and limit. */
+        public VkCoarseSampleLocationNV.Buffer putSample(int[] src) { scatter(VkCoarseSampleLocationNV.SAMPLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sample} field of the structs between the current position and limit. */
+        public VkCoarseSampleLocationNV.Buffer putSample(IntBuffer src) { scatter(VkCoarseSampleLocationNV.SAMPLE, src); return this; }
+
     }
 
 }
\ No newline at end of file
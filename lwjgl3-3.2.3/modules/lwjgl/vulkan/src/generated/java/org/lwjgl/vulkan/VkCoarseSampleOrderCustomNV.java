@@ -257,6 +257,24 @@ public class VkCoarseSampleOrderCustomNV extends Struct implements NativeResourc
         return wrap(VkCoarseSampleOrderCustomNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCoarseSampleOrderCustomNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCoarseSampleOrderCustomNV malloc(MemoryArena arena) {
+        return wrap(VkCoarseSampleOrderCustomNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCoarseSampleOrderCustomNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCoarseSampleOrderCustomNV calloc(MemoryArena arena) {
+        return wrap(VkCoarseSampleOrderCustomNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCoarseSampleOrderCustomNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -295,6 +313,26 @@ public class VkCoarseSampleOrderCustomNV extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCoarseSampleOrderCustomNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCoarseSampleOrderCustomNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCoarseSampleOrderCustomNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCoarseSampleOrderCustomNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #shadingRate}. */
@@ -394,6 +432,28 @@ public class VkCoarseSampleOrderCustomNV extends Struct implements NativeResourc
         /** Sets the address of the specified {@link VkCoarseSampleLocationNV.Buffer} to the {@code pSampleLocations} field. */
         public VkCoarseSampleOrderCustomNV.Buffer pSampleLocations(@NativeType("VkCoarseSampleLocationNV const *") VkCoarseSampleLocationNV.Buffer value) { VkCoarseSampleOrderCustomNV.npSampleLocations(address(), value); return this; }
 
+        /** Copies the {@code shadingRate} field of the structs between the current position and limit to the specified array. */
+        public VkCoarseSampleOrderCustomNV.Buffer getShadingRate(int[] dst) { gather(VkCoarseSampleOrderCustomNV.SHADINGRATE, dst); return this; }
+        /** Copies the {@code shadingRate} field of the structs between the current position and limit to the specified buffer. */
+        public VkCoarseSampleOrderCustomNV.Buffer getShadingRate(IntBuffer dst) { gather(VkCoarseSampleOrderCustomNV.SHADINGRATE, dst); return this; }
+        /** Copies the {@code sampleCount} field of the structs between the current position and limit to the specified array. */
+        public VkCoarseSampleOrderCustomNV.Buffer getSampleCount(int[] dst) { gather(VkCoarseSampleOrderCustomNV.SAMPLECOUNT, dst); return this; }
+        /** Copies the {@code sampleCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCoarseSampleOrderCustomNV.Buffer getSampleCount(IntBuffer dst) { gather(VkCoarseSampleOrderCustomNV.SAMPLECOUNT, dst); return this; }
+        /** Copies the {@code sampleLocationCount} field of the structs between the current position and limit to the specified array. */
+        public VkCoarseSampleOrderCustomNV.Buffer getSampleLocationCount(int[] dst) { gather(VkCoarseSampleOrderCustomNV.SAMPLELOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code sampleLocationCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCoarseSampleOrderCustomNV.Buffer getSampleLocationCount(IntBuffer dst) { gather(VkCoarseSampleOrderCustomNV.SAMPLELOCATIONCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code shadingRate} field of the structs between the current position and limit. */
+        public VkCoarseSampleOrderCustomNV.Buffer putShadingRate(int[] src) { scatter(VkCoarseSampleOrderCustomNV.SHADINGRATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code shadingRate} field of the structs between the current position and limit. */
+        public VkCoarseSampleOrderCustomNV.Buffer putShadingRate(IntBuffer src) { scatter(VkCoarseSampleOrderCustomNV.SHADINGRATE, src); return this; }
+        /** Copies the values in the specified array to the {@code sampleCount} field of the structs between the current position and limit. */
+        public VkCoarseSampleOrderCustomNV.Buffer putSampleCount(int[] src) { scatter(VkCoarseSampleOrderCustomNV.SAMPLECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sampleCount} field of the structs between the current position and limit. */
+        public VkCoarseSampleOrderCustomNV.Buffer putSampleCount(IntBuffer src) { scatter(VkCoarseSampleOrderCustomNV.SAMPLECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -265,6 +265,24 @@ public class VkCommandBufferAllocateInfo extends Struct implements NativeResourc
         return wrap(VkCommandBufferAllocateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCommandBufferAllocateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferAllocateInfo malloc(MemoryArena arena) {
+        return wrap(VkCommandBufferAllocateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCommandBufferAllocateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferAllocateInfo calloc(MemoryArena arena) {
+        return wrap(VkCommandBufferAllocateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCommandBufferAllocateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class VkCommandBufferAllocateInfo extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCommandBufferAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferAllocateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCommandBufferAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferAllocateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -392,6 +430,40 @@ public class VkCommandBufferAllocateInfo extends Struct implements NativeResourc
         /** Sets the specified value to the {@code commandBufferCount} field. */
         public VkCommandBufferAllocateInfo.Buffer commandBufferCount(@NativeType("uint32_t") int value) { VkCommandBufferAllocateInfo.ncommandBufferCount(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferAllocateInfo.Buffer getSType(int[] dst) { gather(VkCommandBufferAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferAllocateInfo.Buffer getSType(IntBuffer dst) { gather(VkCommandBufferAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code commandPool} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferAllocateInfo.Buffer getCommandPool(long[] dst) { gather(VkCommandBufferAllocateInfo.COMMANDPOOL, dst); return this; }
+        /** Copies the {@code commandPool} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferAllocateInfo.Buffer getCommandPool(LongBuffer dst) { gather(VkCommandBufferAllocateInfo.COMMANDPOOL, dst); return this; }
+        /** Copies the {@code level} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferAllocateInfo.Buffer getLevel(int[] dst) { gather(VkCommandBufferAllocateInfo.LEVEL, dst); return this; }
+        /** Copies the {@code level} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferAllocateInfo.Buffer getLevel(IntBuffer dst) { gather(VkCommandBufferAllocateInfo.LEVEL, dst); return this; }
+        /** Copies the {@code commandBufferCount} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferAllocateInfo.Buffer getCommandBufferCount(int[] dst) { gather(VkCommandBufferAllocateInfo.COMMANDBUFFERCOUNT, dst); return this; }
+        /** Copies the {@code commandBufferCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferAllocateInfo.Buffer getCommandBufferCount(IntBuffer dst) { gather(VkCommandBufferAllocateInfo.COMMANDBUFFERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putSType(int[] src) { scatter(VkCommandBufferAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putSType(IntBuffer src) { scatter(VkCommandBufferAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code commandPool} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putCommandPool(long[] src) { scatter(VkCommandBufferAllocateInfo.COMMANDPOOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code commandPool} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putCommandPool(LongBuffer src) { scatter(VkCommandBufferAllocateInfo.COMMANDPOOL, src); return this; }
+        /** Copies the values in the specified array to the {@code level} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putLevel(int[] src) { scatter(VkCommandBufferAllocateInfo.LEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code level} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putLevel(IntBuffer src) { scatter(VkCommandBufferAllocateInfo.LEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code commandBufferCount} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putCommandBufferCount(int[] src) { scatter(VkCommandBufferAllocateInfo.COMMANDBUFFERCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code commandBufferCount} field of the structs between the current position and limit. */
+        public VkCommandBufferAllocateInfo.Buffer putCommandBufferCount(IntBuffer src) { scatter(VkCommandBufferAllocateInfo.COMMANDBUFFERCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -255,6 +255,24 @@ public class VkCommandBufferBeginInfo extends Struct implements NativeResource {
         return wrap(VkCommandBufferBeginInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCommandBufferBeginInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferBeginInfo malloc(MemoryArena arena) {
+        return wrap(VkCommandBufferBeginInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCommandBufferBeginInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferBeginInfo calloc(MemoryArena arena) {
+        return wrap(VkCommandBufferBeginInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCommandBufferBeginInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -293,6 +311,26 @@ public class VkCommandBufferBeginInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCommandBufferBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferBeginInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCommandBufferBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferBeginInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -374,6 +412,24 @@ public class VkCommandBufferBeginInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkCommandBufferInheritanceInfo} to the {@code pInheritanceInfo} field. */
         public VkCommandBufferBeginInfo.Buffer pInheritanceInfo(@Nullable @NativeType("VkCommandBufferInheritanceInfo const *") VkCommandBufferInheritanceInfo value) { VkCommandBufferBeginInfo.npInheritanceInfo(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferBeginInfo.Buffer getSType(int[] dst) { gather(VkCommandBufferBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferBeginInfo.Buffer getSType(IntBuffer dst) { gather(VkCommandBufferBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferBeginInfo.Buffer getFlags(int[] dst) { gather(VkCommandBufferBeginInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferBeginInfo.Buffer getFlags(IntBuffer dst) { gather(VkCommandBufferBeginInfo.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferBeginInfo.Buffer putSType(int[] src) { scatter(VkCommandBufferBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferBeginInfo.Buffer putSType(IntBuffer src) { scatter(VkCommandBufferBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkCommandBufferBeginInfo.Buffer putFlags(int[] src) { scatter(VkCommandBufferBeginInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkCommandBufferBeginInfo.Buffer putFlags(IntBuffer src) { scatter(VkCommandBufferBeginInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -238,6 +238,24 @@ public class VkCommandBufferInheritanceConditionalRenderingInfoEXT extends Struc
         return wrap(VkCommandBufferInheritanceConditionalRenderingInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCommandBufferInheritanceConditionalRenderingInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceConditionalRenderingInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkCommandBufferInheritanceConditionalRenderingInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCommandBufferInheritanceConditionalRenderingInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceConditionalRenderingInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkCommandBufferInheritanceConditionalRenderingInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class VkCommandBufferInheritanceConditionalRenderingInfoEXT extends Struc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -347,6 +385,16 @@ public class VkCommandBufferInheritanceConditionalRenderingInfoEXT extends Struc
         /** Sets the specified value to the {@code conditionalRenderingEnable} field. */
         public VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer conditionalRenderingEnable(@NativeType("VkBool32") boolean value) { VkCommandBufferInheritanceConditionalRenderingInfoEXT.nconditionalRenderingEnable(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer getSType(int[] dst) { gather(VkCommandBufferInheritanceConditionalRenderingInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkCommandBufferInheritanceConditionalRenderingInfoEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer putSType(int[] src) { scatter(VkCommandBufferInheritanceConditionalRenderingInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceConditionalRenderingInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkCommandBufferInheritanceConditionalRenderingInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
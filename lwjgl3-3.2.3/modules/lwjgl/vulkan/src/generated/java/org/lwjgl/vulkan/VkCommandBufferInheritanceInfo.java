@@ -309,6 +309,24 @@ public class VkCommandBufferInheritanceInfo extends Struct implements NativeReso
         return wrap(VkCommandBufferInheritanceInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCommandBufferInheritanceInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceInfo malloc(MemoryArena arena) {
+        return wrap(VkCommandBufferInheritanceInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCommandBufferInheritanceInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceInfo calloc(MemoryArena arena) {
+        return wrap(VkCommandBufferInheritanceInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCommandBufferInheritanceInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -347,6 +365,26 @@ public class VkCommandBufferInheritanceInfo extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCommandBufferInheritanceInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCommandBufferInheritanceInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandBufferInheritanceInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -463,6 +501,56 @@ public class VkCommandBufferInheritanceInfo extends Struct implements NativeReso
         /** Sets the specified value to the {@code pipelineStatistics} field. */
         public VkCommandBufferInheritanceInfo.Buffer pipelineStatistics(@NativeType("VkQueryPipelineStatisticFlags") int value) { VkCommandBufferInheritanceInfo.npipelineStatistics(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceInfo.Buffer getSType(int[] dst) { gather(VkCommandBufferInheritanceInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceInfo.Buffer getSType(IntBuffer dst) { gather(VkCommandBufferInheritanceInfo.STYPE, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceInfo.Buffer getRenderPass(long[] dst) { gather(VkCommandBufferInheritanceInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceInfo.Buffer getRenderPass(LongBuffer dst) { gather(VkCommandBufferInheritanceInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code subpass} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceInfo.Buffer getSubpass(int[] dst) { gather(VkCommandBufferInheritanceInfo.SUBPASS, dst); return this; }
+        /** Copies the {@code subpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceInfo.Buffer getSubpass(IntBuffer dst) { gather(VkCommandBufferInheritanceInfo.SUBPASS, dst); return this; }
+        /** Copies the {@code framebuffer} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceInfo.Buffer getFramebuffer(long[] dst) { gather(VkCommandBufferInheritanceInfo.FRAMEBUFFER, dst); return this; }
+        /** Copies the {@code framebuffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceInfo.Buffer getFramebuffer(LongBuffer dst) { gather(VkCommandBufferInheritanceInfo.FRAMEBUFFER, dst); return this; }
+        /** Copies the {@code queryFlags} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceInfo.Buffer getQueryFlags(int[] dst) { gather(VkCommandBufferInheritanceInfo.QUERYFLAGS, dst); return this; }
+        /** Copies the {@code queryFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceInfo.Buffer getQueryFlags(IntBuffer dst) { gather(VkCommandBufferInheritanceInfo.QUERYFLAGS, dst); return this; }
+        /** Copies the {@code pipelineStatistics} field of the structs between the current position and limit to the specified array. */
+        public VkCommandBufferInheritanceInfo.Buffer getPipelineStatistics(int[] dst) { gather(VkCommandBufferInheritanceInfo.PIPELINESTATISTICS, dst); return this; }
+        /** Copies the {@code pipelineStatistics} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandBufferInheritanceInfo.Buffer getPipelineStatistics(IntBuffer dst) { gather(VkCommandBufferInheritanceInfo.PIPELINESTATISTICS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putSType(int[] src) { scatter(VkCommandBufferInheritanceInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putSType(IntBuffer src) { scatter(VkCommandBufferInheritanceInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putRenderPass(long[] src) { scatter(VkCommandBufferInheritanceInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putRenderPass(LongBuffer src) { scatter(VkCommandBufferInheritanceInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code subpass} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putSubpass(int[] src) { scatter(VkCommandBufferInheritanceInfo.SUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code subpass} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putSubpass(IntBuffer src) { scatter(VkCommandBufferInheritanceInfo.SUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code framebuffer} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putFramebuffer(long[] src) { scatter(VkCommandBufferInheritanceInfo.FRAMEBUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code framebuffer} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putFramebuffer(LongBuffer src) { scatter(VkCommandBufferInheritanceInfo.FRAMEBUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code queryFlags} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putQueryFlags(int[] src) { scatter(VkCommandBufferInheritanceInfo.QUERYFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queryFlags} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putQueryFlags(IntBuffer src) { scatter(VkCommandBufferInheritanceInfo.QUERYFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineStatistics} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putPipelineStatistics(int[] src) { scatter(VkCommandBufferInheritanceInfo.PIPELINESTATISTICS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineStatistics} field of the structs between the current position and limit. */
+        public VkCommandBufferInheritanceInfo.Buffer putPipelineStatistics(IntBuffer src) { scatter(VkCommandBufferInheritanceInfo.PIPELINESTATISTICS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -246,6 +246,24 @@ public class VkCommandPoolCreateInfo extends Struct implements NativeResource {
         return wrap(VkCommandPoolCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCommandPoolCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandPoolCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkCommandPoolCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCommandPoolCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCommandPoolCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkCommandPoolCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCommandPoolCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class VkCommandPoolCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCommandPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandPoolCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCommandPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCommandPoolCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -364,6 +402,32 @@ public class VkCommandPoolCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code queueFamilyIndex} field. */
         public VkCommandPoolCreateInfo.Buffer queueFamilyIndex(@NativeType("uint32_t") int value) { VkCommandPoolCreateInfo.nqueueFamilyIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCommandPoolCreateInfo.Buffer getSType(int[] dst) { gather(VkCommandPoolCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandPoolCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkCommandPoolCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkCommandPoolCreateInfo.Buffer getFlags(int[] dst) { gather(VkCommandPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandPoolCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkCommandPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code queueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkCommandPoolCreateInfo.Buffer getQueueFamilyIndex(int[] dst) { gather(VkCommandPoolCreateInfo.QUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code queueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkCommandPoolCreateInfo.Buffer getQueueFamilyIndex(IntBuffer dst) { gather(VkCommandPoolCreateInfo.QUEUEFAMILYINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandPoolCreateInfo.Buffer putSType(int[] src) { scatter(VkCommandPoolCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCommandPoolCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkCommandPoolCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkCommandPoolCreateInfo.Buffer putFlags(int[] src) { scatter(VkCommandPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkCommandPoolCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkCommandPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code queueFamilyIndex} field of the structs between the current position and limit. */
+        public VkCommandPoolCreateInfo.Buffer putQueueFamilyIndex(int[] src) { scatter(VkCommandPoolCreateInfo.QUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queueFamilyIndex} field of the structs between the current position and limit. */
+        public VkCommandPoolCreateInfo.Buffer putQueueFamilyIndex(IntBuffer src) { scatter(VkCommandPoolCreateInfo.QUEUEFAMILYINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -247,6 +247,24 @@ public class VkComponentMapping extends Struct implements NativeResource {
         return wrap(VkComponentMapping.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkComponentMapping} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkComponentMapping malloc(MemoryArena arena) {
+        return wrap(VkComponentMapping.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkComponentMapping} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkComponentMapping calloc(MemoryArena arena) {
+        return wrap(VkComponentMapping.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkComponentMapping.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkComponentMapping extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkComponentMapping.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkComponentMapping.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkComponentMapping.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkComponentMapping.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #r}. */
@@ -365,6 +403,40 @@ public class VkComponentMapping extends Struct implements NativeResource {
         /** Sets the specified value to the {@code a} field. */
         public VkComponentMapping.Buffer a(@NativeType("VkComponentSwizzle") int value) { VkComponentMapping.na(address(), value); return this; }
 
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified array. */
+        public VkComponentMapping.Buffer getR(int[] dst) { gather(VkComponentMapping.R, dst); return this; }
+        /** Copies the {@code r} field of the structs between the current position and limit to the specified buffer. */
+        public VkComponentMapping.Buffer getR(IntBuffer dst) { gather(VkComponentMapping.R, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified array. */
+        public VkComponentMapping.Buffer getG(int[] dst) { gather(VkComponentMapping.G, dst); return this; }
+        /** Copies the {@code g} field of the structs between the current position and limit to the specified buffer. */
+        public VkComponentMapping.Buffer getG(IntBuffer dst) { gather(VkComponentMapping.G, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified array. */
+        public VkComponentMapping.Buffer getB(int[] dst) { gather(VkComponentMapping.B, dst); return this; }
+        /** Copies the {@code b} field of the structs between the current position and limit to the specified buffer. */
+        public VkComponentMapping.Buffer getB(IntBuffer dst) { gather(VkComponentMapping.B, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified array. */
+        public VkComponentMapping.Buffer getA(int[] dst) { gather(VkComponentMapping.A, dst); return this; }
+        /** Copies the {@code a} field of the structs between the current position and limit to the specified buffer. */
+        public VkComponentMapping.Buffer getA(IntBuffer dst) { gather(VkComponentMapping.A, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code r} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putR(int[] src) { scatter(VkComponentMapping.R, src); return this; }
+        /** Copies the values in the specified buffer to the {@code r} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putR(IntBuffer src) { scatter(VkComponentMapping.R, src); return this; }
+        /** Copies the values in the specified array to the {@code g} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putG(int[] src) { scatter(VkComponentMapping.G, src); return this; }
+        /** Copies the values in the specified buffer to the {@code g} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putG(IntBuffer src) { scatter(VkComponentMapping.G, src); return this; }
+        /** Copies the values in the specified array to the {@code b} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putB(int[] src) { scatter(VkComponentMapping.B, src); return this; }
+        /** Copies the values in the specified buffer to the {@code b} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putB(IntBuffer src) { scatter(VkComponentMapping.B, src); return this; }
+        /** Copies the values in the specified array to the {@code a} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putA(int[] src) { scatter(VkComponentMapping.A, src); return this; }
+        /** Copies the values in the specified buffer to the {@code a} field of the structs between the current position and limit. */
+        public VkComponentMapping.Buffer putA(IntBuffer src) { scatter(VkComponentMapping.A, src); return this; }
+
     }
 
 }
\ No newline at end of file
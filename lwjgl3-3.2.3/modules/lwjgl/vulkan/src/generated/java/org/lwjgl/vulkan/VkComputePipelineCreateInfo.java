@@ -306,6 +306,24 @@ public class VkComputePipelineCreateInfo extends Struct implements NativeResourc
         return wrap(VkComputePipelineCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkComputePipelineCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkComputePipelineCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkComputePipelineCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkComputePipelineCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkComputePipelineCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkComputePipelineCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkComputePipelineCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -344,6 +362,26 @@ public class VkComputePipelineCreateInfo extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkComputePipelineCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkComputePipelineCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkComputePipelineCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkComputePipelineCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -473,6 +511,48 @@ public class VkComputePipelineCreateInfo extends Struct implements NativeResourc
         /** Sets the specified value to the {@code basePipelineIndex} field. */
         public VkComputePipelineCreateInfo.Buffer basePipelineIndex(@NativeType("int32_t") int value) { VkComputePipelineCreateInfo.nbasePipelineIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkComputePipelineCreateInfo.Buffer getSType(int[] dst) { gather(VkComputePipelineCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkComputePipelineCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkComputePipelineCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkComputePipelineCreateInfo.Buffer getFlags(int[] dst) { gather(VkComputePipelineCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkComputePipelineCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkComputePipelineCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified array. */
+        public VkComputePipelineCreateInfo.Buffer getLayout(long[] dst) { gather(VkComputePipelineCreateInfo.LAYOUT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified buffer. */
+        public VkComputePipelineCreateInfo.Buffer getLayout(LongBuffer dst) { gather(VkComputePipelineCreateInfo.LAYOUT, dst); return this; }
+        /** Copies the {@code basePipelineHandle} field of the structs between the current position and limit to the specified array. */
+        public VkComputePipelineCreateInfo.Buffer getBasePipelineHandle(long[] dst) { gather(VkComputePipelineCreateInfo.BASEPIPELINEHANDLE, dst); return this; }
+        /** Copies the {@code basePipelineHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VkComputePipelineCreateInfo.Buffer getBasePipelineHandle(LongBuffer dst) { gather(VkComputePipelineCreateInfo.BASEPIPELINEHANDLE, dst); return this; }
+        /** Copies the {@code basePipelineIndex} field of the structs between the current position and limit to the specified array. */
+        public VkComputePipelineCreateInfo.Buffer getBasePipelineIndex(int[] dst) { gather(VkComputePipelineCreateInfo.BASEPIPELINEINDEX, dst); return this; }
+        /** Copies the {@code basePipelineIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkComputePipelineCreateInfo.Buffer getBasePipelineIndex(IntBuffer dst) { gather(VkComputePipelineCreateInfo.BASEPIPELINEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putSType(int[] src) { scatter(VkComputePipelineCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkComputePipelineCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putFlags(int[] src) { scatter(VkComputePipelineCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkComputePipelineCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code layout} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putLayout(long[] src) { scatter(VkComputePipelineCreateInfo.LAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layout} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putLayout(LongBuffer src) { scatter(VkComputePipelineCreateInfo.LAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code basePipelineHandle} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putBasePipelineHandle(long[] src) { scatter(VkComputePipelineCreateInfo.BASEPIPELINEHANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code basePipelineHandle} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putBasePipelineHandle(LongBuffer src) { scatter(VkComputePipelineCreateInfo.BASEPIPELINEHANDLE, src); return this; }
+        /** Copies the values in the specified array to the {@code basePipelineIndex} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putBasePipelineIndex(int[] src) { scatter(VkComputePipelineCreateInfo.BASEPIPELINEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code basePipelineIndex} field of the structs between the current position and limit. */
+        public VkComputePipelineCreateInfo.Buffer putBasePipelineIndex(IntBuffer src) { scatter(VkComputePipelineCreateInfo.BASEPIPELINEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
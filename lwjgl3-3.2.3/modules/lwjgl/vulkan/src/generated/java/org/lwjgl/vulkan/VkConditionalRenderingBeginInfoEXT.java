@@ -272,6 +272,24 @@ public class VkConditionalRenderingBeginInfoEXT extends Struct implements Native
         return wrap(VkConditionalRenderingBeginInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkConditionalRenderingBeginInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkConditionalRenderingBeginInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkConditionalRenderingBeginInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkConditionalRenderingBeginInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkConditionalRenderingBeginInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkConditionalRenderingBeginInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkConditionalRenderingBeginInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -310,6 +328,26 @@ public class VkConditionalRenderingBeginInfoEXT extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkConditionalRenderingBeginInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkConditionalRenderingBeginInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkConditionalRenderingBeginInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkConditionalRenderingBeginInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -399,6 +437,40 @@ public class VkConditionalRenderingBeginInfoEXT extends Struct implements Native
         /** Sets the specified value to the {@code flags} field. */
         public VkConditionalRenderingBeginInfoEXT.Buffer flags(@NativeType("VkConditionalRenderingFlagsEXT") int value) { VkConditionalRenderingBeginInfoEXT.nflags(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getSType(int[] dst) { gather(VkConditionalRenderingBeginInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkConditionalRenderingBeginInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getBuffer(long[] dst) { gather(VkConditionalRenderingBeginInfoEXT.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getBuffer(LongBuffer dst) { gather(VkConditionalRenderingBeginInfoEXT.BUFFER, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getOffset(long[] dst) { gather(VkConditionalRenderingBeginInfoEXT.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getOffset(LongBuffer dst) { gather(VkConditionalRenderingBeginInfoEXT.OFFSET, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getFlags(int[] dst) { gather(VkConditionalRenderingBeginInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkConditionalRenderingBeginInfoEXT.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putSType(int[] src) { scatter(VkConditionalRenderingBeginInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkConditionalRenderingBeginInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putBuffer(long[] src) { scatter(VkConditionalRenderingBeginInfoEXT.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putBuffer(LongBuffer src) { scatter(VkConditionalRenderingBeginInfoEXT.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putOffset(long[] src) { scatter(VkConditionalRenderingBeginInfoEXT.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putOffset(LongBuffer src) { scatter(VkConditionalRenderingBeginInfoEXT.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putFlags(int[] src) { scatter(VkConditionalRenderingBeginInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkConditionalRenderingBeginInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkConditionalRenderingBeginInfoEXT.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
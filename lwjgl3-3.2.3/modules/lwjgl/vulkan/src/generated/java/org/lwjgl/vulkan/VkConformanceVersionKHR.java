@@ -234,6 +234,24 @@ public class VkConformanceVersionKHR extends Struct implements NativeResource {
         return wrap(VkConformanceVersionKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkConformanceVersionKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkConformanceVersionKHR malloc(MemoryArena arena) {
+        return wrap(VkConformanceVersionKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkConformanceVersionKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkConformanceVersionKHR calloc(MemoryArena arena) {
+        return wrap(VkConformanceVersionKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkConformanceVersionKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkConformanceVersionKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkConformanceVersionKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkConformanceVersionKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkConformanceVersionKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkConformanceVersionKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #major}. */
@@ -352,6 +390,40 @@ public class VkConformanceVersionKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code patch} field. */
         public VkConformanceVersionKHR.Buffer patch(@NativeType("uint8_t") byte value) { VkConformanceVersionKHR.npatch(address(), value); return this; }
 
+        /** Copies the {@code major} field of the structs between the current position and limit to the specified array. */
+        public VkConformanceVersionKHR.Buffer getMajor(byte[] dst) { gather(VkConformanceVersionKHR.MAJOR, dst); return this; }
+        /** Copies the {@code major} field of the structs between the current position and limit to the specified buffer. */
+        public VkConformanceVersionKHR.Buffer getMajor(ByteBuffer dst) { gather(VkConformanceVersionKHR.MAJOR, dst); return this; }
+        /** Copies the {@code minor} field of the structs between the current position and limit to the specified array. */
+        public VkConformanceVersionKHR.Buffer getMinor(byte[] dst) { gather(VkConformanceVersionKHR.MINOR, dst); return this; }
+        /** Copies the {@code minor} field of the structs between the current position and limit to the specified buffer. */
+        public VkConformanceVersionKHR.Buffer getMinor(ByteBuffer dst) { gather(VkConformanceVersionKHR.MINOR, dst); return this; }
+        /** Copies the {@code subminor} field of the structs between the current position and limit to the specified array. */
+        public VkConformanceVersionKHR.Buffer getSubminor(byte[] dst) { gather(VkConformanceVersionKHR.SUBMINOR, dst); return this; }
+        /** Copies the {@code subminor} field of the structs between the current position and limit to the specified buffer. */
+        public VkConformanceVersionKHR.Buffer getSubminor(ByteBuffer dst) { gather(VkConformanceVersionKHR.SUBMINOR, dst); return this; }
+        /** Copies the {@code patch} field of the structs between the current position and limit to the specified array. */
+        public VkConformanceVersionKHR.Buffer getPatch(byte[] dst) { gather(VkConformanceVersionKHR.PATCH, dst); return this; }
+        /** Copies the {@code patch} field of the structs between the current position and limit to the specified buffer. */
+        public VkConformanceVersionKHR.Buffer getPatch(ByteBuffer dst) { gather(VkConformanceVersionKHR.PATCH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code major} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putMajor(byte[] src) { scatter(VkConformanceVersionKHR.MAJOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code major} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putMajor(ByteBuffer src) { scatter(VkConformanceVersionKHR.MAJOR, src); return this; }
+        /** Copies the values in the specified array to the {@code minor} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putMinor(byte[] src) { scatter(VkConformanceVersionKHR.MINOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minor} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putMinor(ByteBuffer src) { scatter(VkConformanceVersionKHR.MINOR, src); return this; }
+        /** Copies the values in the specified array to the {@code subminor} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putSubminor(byte[] src) { scatter(VkConformanceVersionKHR.SUBMINOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code subminor} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putSubminor(ByteBuffer src) { scatter(VkConformanceVersionKHR.SUBMINOR, src); return this; }
+        /** Copies the values in the specified array to the {@code patch} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putPatch(byte[] src) { scatter(VkConformanceVersionKHR.PATCH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code patch} field of the structs between the current position and limit. */
+        public VkConformanceVersionKHR.Buffer putPatch(ByteBuffer src) { scatter(VkConformanceVersionKHR.PATCH, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -328,6 +328,24 @@ public class VkCooperativeMatrixPropertiesNV extends Struct implements NativeRes
         return wrap(VkCooperativeMatrixPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCooperativeMatrixPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCooperativeMatrixPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkCooperativeMatrixPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCooperativeMatrixPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCooperativeMatrixPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkCooperativeMatrixPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCooperativeMatrixPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -366,6 +384,26 @@ public class VkCooperativeMatrixPropertiesNV extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCooperativeMatrixPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCooperativeMatrixPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCooperativeMatrixPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCooperativeMatrixPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -500,6 +538,80 @@ public class VkCooperativeMatrixPropertiesNV extends Struct implements NativeRes
         /** Sets the specified value to the {@code scope} field. */
         public VkCooperativeMatrixPropertiesNV.Buffer scope(@NativeType("VkScopeNV") int value) { VkCooperativeMatrixPropertiesNV.nscope(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getSType(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code MSize} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getMSize(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.MSIZE, dst); return this; }
+        /** Copies the {@code MSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getMSize(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.MSIZE, dst); return this; }
+        /** Copies the {@code NSize} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getNSize(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.NSIZE, dst); return this; }
+        /** Copies the {@code NSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getNSize(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.NSIZE, dst); return this; }
+        /** Copies the {@code KSize} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getKSize(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.KSIZE, dst); return this; }
+        /** Copies the {@code KSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getKSize(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.KSIZE, dst); return this; }
+        /** Copies the {@code AType} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getAType(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.ATYPE, dst); return this; }
+        /** Copies the {@code AType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getAType(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.ATYPE, dst); return this; }
+        /** Copies the {@code BType} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getBType(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.BTYPE, dst); return this; }
+        /** Copies the {@code BType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getBType(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.BTYPE, dst); return this; }
+        /** Copies the {@code CType} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getCType(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.CTYPE, dst); return this; }
+        /** Copies the {@code CType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getCType(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.CTYPE, dst); return this; }
+        /** Copies the {@code DType} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getDType(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.DTYPE, dst); return this; }
+        /** Copies the {@code DType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getDType(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.DTYPE, dst); return this; }
+        /** Copies the {@code scope} field of the structs between the current position and limit to the specified array. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getScope(int[] dst) { gather(VkCooperativeMatrixPropertiesNV.SCOPE, dst); return this; }
+        /** Copies the {@code scope} field of the structs between the current position and limit to the specified buffer. */
+        public VkCooperativeMatrixPropertiesNV.Buffer getScope(IntBuffer dst) { gather(VkCooperativeMatrixPropertiesNV.SCOPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putSType(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code MSize} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putMSize(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.MSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code MSize} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putMSize(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.MSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code NSize} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putNSize(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.NSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code NSize} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putNSize(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.NSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code KSize} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putKSize(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.KSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code KSize} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putKSize(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.KSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code AType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putAType(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.ATYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code AType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putAType(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.ATYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code BType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putBType(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.BTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code BType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putBType(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.BTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code CType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putCType(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.CTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code CType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putCType(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.CTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code DType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putDType(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.DTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code DType} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putDType(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.DTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code scope} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putScope(int[] src) { scatter(VkCooperativeMatrixPropertiesNV.SCOPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code scope} field of the structs between the current position and limit. */
+        public VkCooperativeMatrixPropertiesNV.Buffer putScope(IntBuffer src) { scatter(VkCooperativeMatrixPropertiesNV.SCOPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
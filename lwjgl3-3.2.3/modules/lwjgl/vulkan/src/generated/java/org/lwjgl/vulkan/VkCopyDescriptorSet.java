@@ -327,6 +327,24 @@ public class VkCopyDescriptorSet extends Struct implements NativeResource {
         return wrap(VkCopyDescriptorSet.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkCopyDescriptorSet} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCopyDescriptorSet malloc(MemoryArena arena) {
+        return wrap(VkCopyDescriptorSet.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkCopyDescriptorSet} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkCopyDescriptorSet calloc(MemoryArena arena) {
+        return wrap(VkCopyDescriptorSet.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkCopyDescriptorSet.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -365,6 +383,26 @@ public class VkCopyDescriptorSet extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkCopyDescriptorSet.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCopyDescriptorSet.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkCopyDescriptorSet.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkCopyDescriptorSet.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -490,6 +528,72 @@ public class VkCopyDescriptorSet extends Struct implements NativeResource {
         /** Sets the specified value to the {@code descriptorCount} field. */
         public VkCopyDescriptorSet.Buffer descriptorCount(@NativeType("uint32_t") int value) { VkCopyDescriptorSet.ndescriptorCount(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getSType(int[] dst) { gather(VkCopyDescriptorSet.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getSType(IntBuffer dst) { gather(VkCopyDescriptorSet.STYPE, dst); return this; }
+        /** Copies the {@code srcSet} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getSrcSet(long[] dst) { gather(VkCopyDescriptorSet.SRCSET, dst); return this; }
+        /** Copies the {@code srcSet} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getSrcSet(LongBuffer dst) { gather(VkCopyDescriptorSet.SRCSET, dst); return this; }
+        /** Copies the {@code srcBinding} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getSrcBinding(int[] dst) { gather(VkCopyDescriptorSet.SRCBINDING, dst); return this; }
+        /** Copies the {@code srcBinding} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getSrcBinding(IntBuffer dst) { gather(VkCopyDescriptorSet.SRCBINDING, dst); return this; }
+        /** Copies the {@code srcArrayElement} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getSrcArrayElement(int[] dst) { gather(VkCopyDescriptorSet.SRCARRAYELEMENT, dst); return this; }
+        /** Copies the {@code srcArrayElement} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getSrcArrayElement(IntBuffer dst) { gather(VkCopyDescriptorSet.SRCARRAYELEMENT, dst); return this; }
+        /** Copies the {@code dstSet} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getDstSet(long[] dst) { gather(VkCopyDescriptorSet.DSTSET, dst); return this; }
+        /** Copies the {@code dstSet} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getDstSet(LongBuffer dst) { gather(VkCopyDescriptorSet.DSTSET, dst); return this; }
+        /** Copies the {@code dstBinding} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getDstBinding(int[] dst) { gather(VkCopyDescriptorSet.DSTBINDING, dst); return this; }
+        /** Copies the {@code dstBinding} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getDstBinding(IntBuffer dst) { gather(VkCopyDescriptorSet.DSTBINDING, dst); return this; }
+        /** Copies the {@code dstArrayElement} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getDstArrayElement(int[] dst) { gather(VkCopyDescriptorSet.DSTARRAYELEMENT, dst); return this; }
+        /** Copies the {@code dstArrayElement} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getDstArrayElement(IntBuffer dst) { gather(VkCopyDescriptorSet.DSTARRAYELEMENT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkCopyDescriptorSet.Buffer getDescriptorCount(int[] dst) { gather(VkCopyDescriptorSet.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkCopyDescriptorSet.Buffer getDescriptorCount(IntBuffer dst) { gather(VkCopyDescriptorSet.DESCRIPTORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSType(int[] src) { scatter(VkCopyDescriptorSet.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSType(IntBuffer src) { scatter(VkCopyDescriptorSet.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code srcSet} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSrcSet(long[] src) { scatter(VkCopyDescriptorSet.SRCSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcSet} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSrcSet(LongBuffer src) { scatter(VkCopyDescriptorSet.SRCSET, src); return this; }
+        /** Copies the values in the specified array to the {@code srcBinding} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSrcBinding(int[] src) { scatter(VkCopyDescriptorSet.SRCBINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcBinding} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSrcBinding(IntBuffer src) { scatter(VkCopyDescriptorSet.SRCBINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code srcArrayElement} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSrcArrayElement(int[] src) { scatter(VkCopyDescriptorSet.SRCARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcArrayElement} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putSrcArrayElement(IntBuffer src) { scatter(VkCopyDescriptorSet.SRCARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code dstSet} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDstSet(long[] src) { scatter(VkCopyDescriptorSet.DSTSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstSet} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDstSet(LongBuffer src) { scatter(VkCopyDescriptorSet.DSTSET, src); return this; }
+        /** Copies the values in the specified array to the {@code dstBinding} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDstBinding(int[] src) { scatter(VkCopyDescriptorSet.DSTBINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstBinding} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDstBinding(IntBuffer src) { scatter(VkCopyDescriptorSet.DSTBINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code dstArrayElement} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDstArrayElement(int[] src) { scatter(VkCopyDescriptorSet.DSTARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstArrayElement} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDstArrayElement(IntBuffer src) { scatter(VkCopyDescriptorSet.DSTARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDescriptorCount(int[] src) { scatter(VkCopyDescriptorSet.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkCopyDescriptorSet.Buffer putDescriptorCount(IntBuffer src) { scatter(VkCopyDescriptorSet.DESCRIPTORCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -279,6 +279,24 @@ public class VkD3D12FenceSubmitInfoKHR extends Struct implements NativeResource
         return wrap(VkD3D12FenceSubmitInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkD3D12FenceSubmitInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkD3D12FenceSubmitInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkD3D12FenceSubmitInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkD3D12FenceSubmitInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkD3D12FenceSubmitInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkD3D12FenceSubmitInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkD3D12FenceSubmitInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -317,6 +335,26 @@ public class VkD3D12FenceSubmitInfoKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkD3D12FenceSubmitInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkD3D12FenceSubmitInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkD3D12FenceSubmitInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkD3D12FenceSubmitInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -417,6 +455,32 @@ public class VkD3D12FenceSubmitInfoKHR extends Struct implements NativeResource
         /** Sets the address of the specified {@link LongBuffer} to the {@code pSignalSemaphoreValues} field. */
         public VkD3D12FenceSubmitInfoKHR.Buffer pSignalSemaphoreValues(@Nullable @NativeType("uint64_t const *") LongBuffer value) { VkD3D12FenceSubmitInfoKHR.npSignalSemaphoreValues(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer getSType(int[] dst) { gather(VkD3D12FenceSubmitInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkD3D12FenceSubmitInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code waitSemaphoreValuesCount} field of the structs between the current position and limit to the specified array. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer getWaitSemaphoreValuesCount(int[] dst) { gather(VkD3D12FenceSubmitInfoKHR.WAITSEMAPHOREVALUESCOUNT, dst); return this; }
+        /** Copies the {@code waitSemaphoreValuesCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer getWaitSemaphoreValuesCount(IntBuffer dst) { gather(VkD3D12FenceSubmitInfoKHR.WAITSEMAPHOREVALUESCOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreValuesCount} field of the structs between the current position and limit to the specified array. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer getSignalSemaphoreValuesCount(int[] dst) { gather(VkD3D12FenceSubmitInfoKHR.SIGNALSEMAPHOREVALUESCOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreValuesCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer getSignalSemaphoreValuesCount(IntBuffer dst) { gather(VkD3D12FenceSubmitInfoKHR.SIGNALSEMAPHOREVALUESCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer putSType(int[] src) { scatter(VkD3D12FenceSubmitInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkD3D12FenceSubmitInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code waitSemaphoreValuesCount} field of the structs between the current position and limit. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer putWaitSemaphoreValuesCount(int[] src) { scatter(VkD3D12FenceSubmitInfoKHR.WAITSEMAPHOREVALUESCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code waitSemaphoreValuesCount} field of the structs between the current position and limit. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer putWaitSemaphoreValuesCount(IntBuffer src) { scatter(VkD3D12FenceSubmitInfoKHR.WAITSEMAPHOREVALUESCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code signalSemaphoreValuesCount} field of the structs between the current position and limit. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer putSignalSemaphoreValuesCount(int[] src) { scatter(VkD3D12FenceSubmitInfoKHR.SIGNALSEMAPHOREVALUESCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code signalSemaphoreValuesCount} field of the structs between the current position and limit. */
+        public VkD3D12FenceSubmitInfoKHR.Buffer putSignalSemaphoreValuesCount(IntBuffer src) { scatter(VkD3D12FenceSubmitInfoKHR.SIGNALSEMAPHOREVALUESCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
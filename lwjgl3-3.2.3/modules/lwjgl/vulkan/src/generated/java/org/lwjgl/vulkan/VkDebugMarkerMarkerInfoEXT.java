@@ -254,6 +254,24 @@ public class VkDebugMarkerMarkerInfoEXT extends Struct implements NativeResource
         return wrap(VkDebugMarkerMarkerInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugMarkerMarkerInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugMarkerMarkerInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugMarkerMarkerInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugMarkerMarkerInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugMarkerMarkerInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugMarkerMarkerInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugMarkerMarkerInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class VkDebugMarkerMarkerInfoEXT extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugMarkerMarkerInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugMarkerMarkerInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugMarkerMarkerInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugMarkerMarkerInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -416,6 +454,16 @@ public class VkDebugMarkerMarkerInfoEXT extends Struct implements NativeResource
         /** Sets the specified value at the specified index of the {@code color} field. */
         public VkDebugMarkerMarkerInfoEXT.Buffer color(int index, float value) { VkDebugMarkerMarkerInfoEXT.ncolor(address(), index, value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerMarkerInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugMarkerMarkerInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerMarkerInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugMarkerMarkerInfoEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugMarkerMarkerInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugMarkerMarkerInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugMarkerMarkerInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugMarkerMarkerInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -275,6 +275,24 @@ public class VkDebugMarkerObjectNameInfoEXT extends Struct implements NativeReso
         return wrap(VkDebugMarkerObjectNameInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugMarkerObjectNameInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectNameInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugMarkerObjectNameInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugMarkerObjectNameInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectNameInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugMarkerObjectNameInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugMarkerObjectNameInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -313,6 +331,26 @@ public class VkDebugMarkerObjectNameInfoEXT extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugMarkerObjectNameInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectNameInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugMarkerObjectNameInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectNameInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -431,6 +469,32 @@ public class VkDebugMarkerObjectNameInfoEXT extends Struct implements NativeReso
         /** Sets the address of the specified encoded string to the {@code pObjectName} field. */
         public VkDebugMarkerObjectNameInfoEXT.Buffer pObjectName(@NativeType("char const *") ByteBuffer value) { VkDebugMarkerObjectNameInfoEXT.npObjectName(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugMarkerObjectNameInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugMarkerObjectNameInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer getObjectType(int[] dst) { gather(VkDebugMarkerObjectNameInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer getObjectType(IntBuffer dst) { gather(VkDebugMarkerObjectNameInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code object} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer getObject(long[] dst) { gather(VkDebugMarkerObjectNameInfoEXT.OBJECT, dst); return this; }
+        /** Copies the {@code object} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer getObject(LongBuffer dst) { gather(VkDebugMarkerObjectNameInfoEXT.OBJECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugMarkerObjectNameInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugMarkerObjectNameInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer putObjectType(int[] src) { scatter(VkDebugMarkerObjectNameInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer putObjectType(IntBuffer src) { scatter(VkDebugMarkerObjectNameInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code object} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer putObject(long[] src) { scatter(VkDebugMarkerObjectNameInfoEXT.OBJECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code object} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectNameInfoEXT.Buffer putObject(LongBuffer src) { scatter(VkDebugMarkerObjectNameInfoEXT.OBJECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
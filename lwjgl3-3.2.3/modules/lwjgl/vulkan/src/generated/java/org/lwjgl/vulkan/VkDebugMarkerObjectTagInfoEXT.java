@@ -293,6 +293,24 @@ public class VkDebugMarkerObjectTagInfoEXT extends Struct implements NativeResou
         return wrap(VkDebugMarkerObjectTagInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugMarkerObjectTagInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectTagInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugMarkerObjectTagInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugMarkerObjectTagInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectTagInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugMarkerObjectTagInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugMarkerObjectTagInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class VkDebugMarkerObjectTagInfoEXT extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugMarkerObjectTagInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectTagInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugMarkerObjectTagInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugMarkerObjectTagInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -457,6 +495,40 @@ public class VkDebugMarkerObjectTagInfoEXT extends Struct implements NativeResou
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pTag} field. */
         public VkDebugMarkerObjectTagInfoEXT.Buffer pTag(@NativeType("void const *") ByteBuffer value) { VkDebugMarkerObjectTagInfoEXT.npTag(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugMarkerObjectTagInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugMarkerObjectTagInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getObjectType(int[] dst) { gather(VkDebugMarkerObjectTagInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getObjectType(IntBuffer dst) { gather(VkDebugMarkerObjectTagInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code object} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getObject(long[] dst) { gather(VkDebugMarkerObjectTagInfoEXT.OBJECT, dst); return this; }
+        /** Copies the {@code object} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getObject(LongBuffer dst) { gather(VkDebugMarkerObjectTagInfoEXT.OBJECT, dst); return this; }
+        /** Copies the {@code tagName} field of the structs between the current position and limit to the specified array. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getTagName(long[] dst) { gather(VkDebugMarkerObjectTagInfoEXT.TAGNAME, dst); return this; }
+        /** Copies the {@code tagName} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer getTagName(LongBuffer dst) { gather(VkDebugMarkerObjectTagInfoEXT.TAGNAME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugMarkerObjectTagInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugMarkerObjectTagInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putObjectType(int[] src) { scatter(VkDebugMarkerObjectTagInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putObjectType(IntBuffer src) { scatter(VkDebugMarkerObjectTagInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code object} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putObject(long[] src) { scatter(VkDebugMarkerObjectTagInfoEXT.OBJECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code object} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putObject(LongBuffer src) { scatter(VkDebugMarkerObjectTagInfoEXT.OBJECT, src); return this; }
+        /** Copies the values in the specified array to the {@code tagName} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putTagName(long[] src) { scatter(VkDebugMarkerObjectTagInfoEXT.TAGNAME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tagName} field of the structs between the current position and limit. */
+        public VkDebugMarkerObjectTagInfoEXT.Buffer putTagName(LongBuffer src) { scatter(VkDebugMarkerObjectTagInfoEXT.TAGNAME, src); return this; }
+
     }
 
 }
\ No newline at end of file
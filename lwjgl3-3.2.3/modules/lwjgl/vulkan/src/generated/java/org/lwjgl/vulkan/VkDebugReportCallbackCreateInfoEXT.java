@@ -267,6 +267,24 @@ public class VkDebugReportCallbackCreateInfoEXT extends Struct implements Native
         return wrap(VkDebugReportCallbackCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugReportCallbackCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugReportCallbackCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugReportCallbackCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugReportCallbackCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugReportCallbackCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugReportCallbackCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugReportCallbackCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -305,6 +323,26 @@ public class VkDebugReportCallbackCreateInfoEXT extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugReportCallbackCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugReportCallbackCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugReportCallbackCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugReportCallbackCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -415,6 +453,24 @@ public class VkDebugReportCallbackCreateInfoEXT extends Struct implements Native
         /** Sets the specified value to the {@code pUserData} field. */
         public VkDebugReportCallbackCreateInfoEXT.Buffer pUserData(@NativeType("void *") long value) { VkDebugReportCallbackCreateInfoEXT.npUserData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugReportCallbackCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugReportCallbackCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkDebugReportCallbackCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkDebugReportCallbackCreateInfoEXT.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugReportCallbackCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugReportCallbackCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkDebugReportCallbackCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDebugReportCallbackCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkDebugReportCallbackCreateInfoEXT.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
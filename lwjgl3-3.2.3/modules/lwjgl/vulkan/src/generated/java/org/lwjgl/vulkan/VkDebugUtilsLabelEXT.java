@@ -254,6 +254,24 @@ public class VkDebugUtilsLabelEXT extends Struct implements NativeResource {
         return wrap(VkDebugUtilsLabelEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugUtilsLabelEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsLabelEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsLabelEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugUtilsLabelEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsLabelEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsLabelEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugUtilsLabelEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class VkDebugUtilsLabelEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugUtilsLabelEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsLabelEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugUtilsLabelEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsLabelEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -416,6 +454,16 @@ public class VkDebugUtilsLabelEXT extends Struct implements NativeResource {
         /** Sets the specified value at the specified index of the {@code color} field. */
         public VkDebugUtilsLabelEXT.Buffer color(int index, float value) { VkDebugUtilsLabelEXT.ncolor(address(), index, value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsLabelEXT.Buffer getSType(int[] dst) { gather(VkDebugUtilsLabelEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsLabelEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugUtilsLabelEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsLabelEXT.Buffer putSType(int[] src) { scatter(VkDebugUtilsLabelEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsLabelEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugUtilsLabelEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -363,6 +363,24 @@ public class VkDebugUtilsMessengerCallbackDataEXT extends Struct implements Nati
         return wrap(VkDebugUtilsMessengerCallbackDataEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugUtilsMessengerCallbackDataEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCallbackDataEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsMessengerCallbackDataEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugUtilsMessengerCallbackDataEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCallbackDataEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsMessengerCallbackDataEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugUtilsMessengerCallbackDataEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -401,6 +419,26 @@ public class VkDebugUtilsMessengerCallbackDataEXT extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugUtilsMessengerCallbackDataEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCallbackDataEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugUtilsMessengerCallbackDataEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCallbackDataEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -604,6 +642,44 @@ public class VkDebugUtilsMessengerCallbackDataEXT extends Struct implements Nati
         /** Sets the address of the specified {@link VkDebugUtilsObjectNameInfoEXT.Buffer} to the {@code pObjects} field. */
         public VkDebugUtilsMessengerCallbackDataEXT.Buffer pObjects(@Nullable @NativeType("VkDebugUtilsObjectNameInfoEXT const *") VkDebugUtilsObjectNameInfoEXT.Buffer value) { VkDebugUtilsMessengerCallbackDataEXT.npObjects(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getSType(int[] dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getFlags(int[] dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getFlags(IntBuffer dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.FLAGS, dst); return this; }
+        /** Copies the {@code messageIdNumber} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getMessageIdNumber(int[] dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.MESSAGEIDNUMBER, dst); return this; }
+        /** Copies the {@code messageIdNumber} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getMessageIdNumber(IntBuffer dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.MESSAGEIDNUMBER, dst); return this; }
+        /** Copies the {@code queueLabelCount} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getQueueLabelCount(int[] dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.QUEUELABELCOUNT, dst); return this; }
+        /** Copies the {@code queueLabelCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getQueueLabelCount(IntBuffer dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.QUEUELABELCOUNT, dst); return this; }
+        /** Copies the {@code cmdBufLabelCount} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getCmdBufLabelCount(int[] dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.CMDBUFLABELCOUNT, dst); return this; }
+        /** Copies the {@code cmdBufLabelCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getCmdBufLabelCount(IntBuffer dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.CMDBUFLABELCOUNT, dst); return this; }
+        /** Copies the {@code objectCount} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getObjectCount(int[] dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.OBJECTCOUNT, dst); return this; }
+        /** Copies the {@code objectCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer getObjectCount(IntBuffer dst) { gather(VkDebugUtilsMessengerCallbackDataEXT.OBJECTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer putSType(int[] src) { scatter(VkDebugUtilsMessengerCallbackDataEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugUtilsMessengerCallbackDataEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer putFlags(int[] src) { scatter(VkDebugUtilsMessengerCallbackDataEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer putFlags(IntBuffer src) { scatter(VkDebugUtilsMessengerCallbackDataEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code messageIdNumber} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer putMessageIdNumber(int[] src) { scatter(VkDebugUtilsMessengerCallbackDataEXT.MESSAGEIDNUMBER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code messageIdNumber} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCallbackDataEXT.Buffer putMessageIdNumber(IntBuffer src) { scatter(VkDebugUtilsMessengerCallbackDataEXT.MESSAGEIDNUMBER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -319,6 +319,24 @@ public class VkDebugUtilsMessengerCreateInfoEXT extends Struct implements Native
         return wrap(VkDebugUtilsMessengerCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugUtilsMessengerCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsMessengerCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugUtilsMessengerCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsMessengerCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugUtilsMessengerCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -357,6 +375,26 @@ public class VkDebugUtilsMessengerCreateInfoEXT extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugUtilsMessengerCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugUtilsMessengerCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsMessengerCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -485,6 +523,40 @@ public class VkDebugUtilsMessengerCreateInfoEXT extends Struct implements Native
         /** Sets the specified value to the {@code pUserData} field. */
         public VkDebugUtilsMessengerCreateInfoEXT.Buffer pUserData(@NativeType("void *") long value) { VkDebugUtilsMessengerCreateInfoEXT.npUserData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code messageSeverity} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getMessageSeverity(int[] dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.MESSAGESEVERITY, dst); return this; }
+        /** Copies the {@code messageSeverity} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getMessageSeverity(IntBuffer dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.MESSAGESEVERITY, dst); return this; }
+        /** Copies the {@code messageType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getMessageType(int[] dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.MESSAGETYPE, dst); return this; }
+        /** Copies the {@code messageType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer getMessageType(IntBuffer dst) { gather(VkDebugUtilsMessengerCreateInfoEXT.MESSAGETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code messageSeverity} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putMessageSeverity(int[] src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.MESSAGESEVERITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code messageSeverity} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putMessageSeverity(IntBuffer src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.MESSAGESEVERITY, src); return this; }
+        /** Copies the values in the specified array to the {@code messageType} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putMessageType(int[] src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.MESSAGETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code messageType} field of the structs between the current position and limit. */
+        public VkDebugUtilsMessengerCreateInfoEXT.Buffer putMessageType(IntBuffer src) { scatter(VkDebugUtilsMessengerCreateInfoEXT.MESSAGETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -276,6 +276,24 @@ public class VkDebugUtilsObjectNameInfoEXT extends Struct implements NativeResou
         return wrap(VkDebugUtilsObjectNameInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugUtilsObjectNameInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectNameInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsObjectNameInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugUtilsObjectNameInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectNameInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsObjectNameInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugUtilsObjectNameInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -314,6 +332,26 @@ public class VkDebugUtilsObjectNameInfoEXT extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugUtilsObjectNameInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectNameInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugUtilsObjectNameInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectNameInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -413,6 +451,32 @@ public class VkDebugUtilsObjectNameInfoEXT extends Struct implements NativeResou
         /** Sets the address of the specified encoded string to the {@code pObjectName} field. */
         public VkDebugUtilsObjectNameInfoEXT.Buffer pObjectName(@Nullable @NativeType("char const *") ByteBuffer value) { VkDebugUtilsObjectNameInfoEXT.npObjectName(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugUtilsObjectNameInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugUtilsObjectNameInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer getObjectType(int[] dst) { gather(VkDebugUtilsObjectNameInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer getObjectType(IntBuffer dst) { gather(VkDebugUtilsObjectNameInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code objectHandle} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer getObjectHandle(long[] dst) { gather(VkDebugUtilsObjectNameInfoEXT.OBJECTHANDLE, dst); return this; }
+        /** Copies the {@code objectHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer getObjectHandle(LongBuffer dst) { gather(VkDebugUtilsObjectNameInfoEXT.OBJECTHANDLE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugUtilsObjectNameInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugUtilsObjectNameInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer putObjectType(int[] src) { scatter(VkDebugUtilsObjectNameInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer putObjectType(IntBuffer src) { scatter(VkDebugUtilsObjectNameInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectHandle} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer putObjectHandle(long[] src) { scatter(VkDebugUtilsObjectNameInfoEXT.OBJECTHANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectHandle} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectNameInfoEXT.Buffer putObjectHandle(LongBuffer src) { scatter(VkDebugUtilsObjectNameInfoEXT.OBJECTHANDLE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -292,6 +292,24 @@ public class VkDebugUtilsObjectTagInfoEXT extends Struct implements NativeResour
         return wrap(VkDebugUtilsObjectTagInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDebugUtilsObjectTagInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectTagInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsObjectTagInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDebugUtilsObjectTagInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectTagInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDebugUtilsObjectTagInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDebugUtilsObjectTagInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -330,6 +348,26 @@ public class VkDebugUtilsObjectTagInfoEXT extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDebugUtilsObjectTagInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectTagInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDebugUtilsObjectTagInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDebugUtilsObjectTagInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -456,6 +494,40 @@ public class VkDebugUtilsObjectTagInfoEXT extends Struct implements NativeResour
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pTag} field. */
         public VkDebugUtilsObjectTagInfoEXT.Buffer pTag(@NativeType("void const *") ByteBuffer value) { VkDebugUtilsObjectTagInfoEXT.npTag(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getSType(int[] dst) { gather(VkDebugUtilsObjectTagInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDebugUtilsObjectTagInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getObjectType(int[] dst) { gather(VkDebugUtilsObjectTagInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code objectType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getObjectType(IntBuffer dst) { gather(VkDebugUtilsObjectTagInfoEXT.OBJECTTYPE, dst); return this; }
+        /** Copies the {@code objectHandle} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getObjectHandle(long[] dst) { gather(VkDebugUtilsObjectTagInfoEXT.OBJECTHANDLE, dst); return this; }
+        /** Copies the {@code objectHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getObjectHandle(LongBuffer dst) { gather(VkDebugUtilsObjectTagInfoEXT.OBJECTHANDLE, dst); return this; }
+        /** Copies the {@code tagName} field of the structs between the current position and limit to the specified array. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getTagName(long[] dst) { gather(VkDebugUtilsObjectTagInfoEXT.TAGNAME, dst); return this; }
+        /** Copies the {@code tagName} field of the structs between the current position and limit to the specified buffer. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer getTagName(LongBuffer dst) { gather(VkDebugUtilsObjectTagInfoEXT.TAGNAME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putSType(int[] src) { scatter(VkDebugUtilsObjectTagInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDebugUtilsObjectTagInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putObjectType(int[] src) { scatter(VkDebugUtilsObjectTagInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectType} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putObjectType(IntBuffer src) { scatter(VkDebugUtilsObjectTagInfoEXT.OBJECTTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectHandle} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putObjectHandle(long[] src) { scatter(VkDebugUtilsObjectTagInfoEXT.OBJECTHANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectHandle} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putObjectHandle(LongBuffer src) { scatter(VkDebugUtilsObjectTagInfoEXT.OBJECTHANDLE, src); return this; }
+        /** Copies the values in the specified array to the {@code tagName} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putTagName(long[] src) { scatter(VkDebugUtilsObjectTagInfoEXT.TAGNAME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tagName} field of the structs between the current position and limit. */
+        public VkDebugUtilsObjectTagInfoEXT.Buffer putTagName(LongBuffer src) { scatter(VkDebugUtilsObjectTagInfoEXT.TAGNAME, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkDedicatedAllocationBufferCreateInfoNV extends Struct implements N
         return wrap(VkDedicatedAllocationBufferCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDedicatedAllocationBufferCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDedicatedAllocationBufferCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkDedicatedAllocationBufferCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDedicatedAllocationBufferCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDedicatedAllocationBufferCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkDedicatedAllocationBufferCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDedicatedAllocationBufferCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkDedicatedAllocationBufferCreateInfoNV extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDedicatedAllocationBufferCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDedicatedAllocationBufferCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDedicatedAllocationBufferCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDedicatedAllocationBufferCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -337,6 +375,16 @@ public class VkDedicatedAllocationBufferCreateInfoNV extends Struct implements N
         /** Sets the specified value to the {@code dedicatedAllocation} field. */
         public VkDedicatedAllocationBufferCreateInfoNV.Buffer dedicatedAllocation(@NativeType("VkBool32") boolean value) { VkDedicatedAllocationBufferCreateInfoNV.ndedicatedAllocation(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDedicatedAllocationBufferCreateInfoNV.Buffer getSType(int[] dst) { gather(VkDedicatedAllocationBufferCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDedicatedAllocationBufferCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkDedicatedAllocationBufferCreateInfoNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationBufferCreateInfoNV.Buffer putSType(int[] src) { scatter(VkDedicatedAllocationBufferCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationBufferCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkDedicatedAllocationBufferCreateInfoNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -241,6 +241,24 @@ public class VkDedicatedAllocationImageCreateInfoNV extends Struct implements Na
         return wrap(VkDedicatedAllocationImageCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDedicatedAllocationImageCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDedicatedAllocationImageCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkDedicatedAllocationImageCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDedicatedAllocationImageCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDedicatedAllocationImageCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkDedicatedAllocationImageCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDedicatedAllocationImageCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -279,6 +297,26 @@ public class VkDedicatedAllocationImageCreateInfoNV extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDedicatedAllocationImageCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDedicatedAllocationImageCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDedicatedAllocationImageCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDedicatedAllocationImageCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -350,6 +388,16 @@ public class VkDedicatedAllocationImageCreateInfoNV extends Struct implements Na
         /** Sets the specified value to the {@code dedicatedAllocation} field. */
         public VkDedicatedAllocationImageCreateInfoNV.Buffer dedicatedAllocation(@NativeType("VkBool32") boolean value) { VkDedicatedAllocationImageCreateInfoNV.ndedicatedAllocation(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDedicatedAllocationImageCreateInfoNV.Buffer getSType(int[] dst) { gather(VkDedicatedAllocationImageCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDedicatedAllocationImageCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkDedicatedAllocationImageCreateInfoNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationImageCreateInfoNV.Buffer putSType(int[] src) { scatter(VkDedicatedAllocationImageCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationImageCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkDedicatedAllocationImageCreateInfoNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -255,6 +255,24 @@ public class VkDedicatedAllocationMemoryAllocateInfoNV extends Struct implements
         return wrap(VkDedicatedAllocationMemoryAllocateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDedicatedAllocationMemoryAllocateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDedicatedAllocationMemoryAllocateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkDedicatedAllocationMemoryAllocateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDedicatedAllocationMemoryAllocateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDedicatedAllocationMemoryAllocateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkDedicatedAllocationMemoryAllocateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDedicatedAllocationMemoryAllocateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -293,6 +311,26 @@ public class VkDedicatedAllocationMemoryAllocateInfoNV extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDedicatedAllocationMemoryAllocateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDedicatedAllocationMemoryAllocateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDedicatedAllocationMemoryAllocateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDedicatedAllocationMemoryAllocateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -373,6 +411,32 @@ public class VkDedicatedAllocationMemoryAllocateInfoNV extends Struct implements
         /** Sets the specified value to the {@code buffer} field. */
         public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer buffer(@NativeType("VkBuffer") long value) { VkDedicatedAllocationMemoryAllocateInfoNV.nbuffer(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer getSType(int[] dst) { gather(VkDedicatedAllocationMemoryAllocateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkDedicatedAllocationMemoryAllocateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer getImage(long[] dst) { gather(VkDedicatedAllocationMemoryAllocateInfoNV.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer getImage(LongBuffer dst) { gather(VkDedicatedAllocationMemoryAllocateInfoNV.IMAGE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer getBuffer(long[] dst) { gather(VkDedicatedAllocationMemoryAllocateInfoNV.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer getBuffer(LongBuffer dst) { gather(VkDedicatedAllocationMemoryAllocateInfoNV.BUFFER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer putSType(int[] src) { scatter(VkDedicatedAllocationMemoryAllocateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkDedicatedAllocationMemoryAllocateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer putImage(long[] src) { scatter(VkDedicatedAllocationMemoryAllocateInfoNV.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer putImage(LongBuffer src) { scatter(VkDedicatedAllocationMemoryAllocateInfoNV.IMAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer putBuffer(long[] src) { scatter(VkDedicatedAllocationMemoryAllocateInfoNV.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkDedicatedAllocationMemoryAllocateInfoNV.Buffer putBuffer(LongBuffer src) { scatter(VkDedicatedAllocationMemoryAllocateInfoNV.BUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -249,6 +249,24 @@ public class VkDescriptorBufferInfo extends Struct implements NativeResource {
         return wrap(VkDescriptorBufferInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorBufferInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorBufferInfo malloc(MemoryArena arena) {
+        return wrap(VkDescriptorBufferInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorBufferInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorBufferInfo calloc(MemoryArena arena) {
+        return wrap(VkDescriptorBufferInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorBufferInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkDescriptorBufferInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorBufferInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorBufferInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorBufferInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorBufferInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #buffer}. */
@@ -358,6 +396,32 @@ public class VkDescriptorBufferInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code range} field. */
         public VkDescriptorBufferInfo.Buffer range(@NativeType("VkDeviceSize") long value) { VkDescriptorBufferInfo.nrange(address(), value); return this; }
 
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorBufferInfo.Buffer getBuffer(long[] dst) { gather(VkDescriptorBufferInfo.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorBufferInfo.Buffer getBuffer(LongBuffer dst) { gather(VkDescriptorBufferInfo.BUFFER, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorBufferInfo.Buffer getOffset(long[] dst) { gather(VkDescriptorBufferInfo.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorBufferInfo.Buffer getOffset(LongBuffer dst) { gather(VkDescriptorBufferInfo.OFFSET, dst); return this; }
+        /** Copies the {@code range} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorBufferInfo.Buffer getRange(long[] dst) { gather(VkDescriptorBufferInfo.RANGE, dst); return this; }
+        /** Copies the {@code range} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorBufferInfo.Buffer getRange(LongBuffer dst) { gather(VkDescriptorBufferInfo.RANGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkDescriptorBufferInfo.Buffer putBuffer(long[] src) { scatter(VkDescriptorBufferInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkDescriptorBufferInfo.Buffer putBuffer(LongBuffer src) { scatter(VkDescriptorBufferInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkDescriptorBufferInfo.Buffer putOffset(long[] src) { scatter(VkDescriptorBufferInfo.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkDescriptorBufferInfo.Buffer putOffset(LongBuffer src) { scatter(VkDescriptorBufferInfo.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code range} field of the structs between the current position and limit. */
+        public VkDescriptorBufferInfo.Buffer putRange(long[] src) { scatter(VkDescriptorBufferInfo.RANGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code range} field of the structs between the current position and limit. */
+        public VkDescriptorBufferInfo.Buffer putRange(LongBuffer src) { scatter(VkDescriptorBufferInfo.RANGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -245,6 +245,24 @@ public class VkDescriptorImageInfo extends Struct implements NativeResource {
         return wrap(VkDescriptorImageInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorImageInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorImageInfo malloc(MemoryArena arena) {
+        return wrap(VkDescriptorImageInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorImageInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorImageInfo calloc(MemoryArena arena) {
+        return wrap(VkDescriptorImageInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorImageInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class VkDescriptorImageInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorImageInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorImageInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorImageInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorImageInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sampler}. */
@@ -354,6 +392,32 @@ public class VkDescriptorImageInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code imageLayout} field. */
         public VkDescriptorImageInfo.Buffer imageLayout(@NativeType("VkImageLayout") int value) { VkDescriptorImageInfo.nimageLayout(address(), value); return this; }
 
+        /** Copies the {@code sampler} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorImageInfo.Buffer getSampler(long[] dst) { gather(VkDescriptorImageInfo.SAMPLER, dst); return this; }
+        /** Copies the {@code sampler} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorImageInfo.Buffer getSampler(LongBuffer dst) { gather(VkDescriptorImageInfo.SAMPLER, dst); return this; }
+        /** Copies the {@code imageView} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorImageInfo.Buffer getImageView(long[] dst) { gather(VkDescriptorImageInfo.IMAGEVIEW, dst); return this; }
+        /** Copies the {@code imageView} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorImageInfo.Buffer getImageView(LongBuffer dst) { gather(VkDescriptorImageInfo.IMAGEVIEW, dst); return this; }
+        /** Copies the {@code imageLayout} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorImageInfo.Buffer getImageLayout(int[] dst) { gather(VkDescriptorImageInfo.IMAGELAYOUT, dst); return this; }
+        /** Copies the {@code imageLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorImageInfo.Buffer getImageLayout(IntBuffer dst) { gather(VkDescriptorImageInfo.IMAGELAYOUT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sampler} field of the structs between the current position and limit. */
+        public VkDescriptorImageInfo.Buffer putSampler(long[] src) { scatter(VkDescriptorImageInfo.SAMPLER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sampler} field of the structs between the current position and limit. */
+        public VkDescriptorImageInfo.Buffer putSampler(LongBuffer src) { scatter(VkDescriptorImageInfo.SAMPLER, src); return this; }
+        /** Copies the values in the specified array to the {@code imageView} field of the structs between the current position and limit. */
+        public VkDescriptorImageInfo.Buffer putImageView(long[] src) { scatter(VkDescriptorImageInfo.IMAGEVIEW, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageView} field of the structs between the current position and limit. */
+        public VkDescriptorImageInfo.Buffer putImageView(LongBuffer src) { scatter(VkDescriptorImageInfo.IMAGEVIEW, src); return this; }
+        /** Copies the values in the specified array to the {@code imageLayout} field of the structs between the current position and limit. */
+        public VkDescriptorImageInfo.Buffer putImageLayout(int[] src) { scatter(VkDescriptorImageInfo.IMAGELAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageLayout} field of the structs between the current position and limit. */
+        public VkDescriptorImageInfo.Buffer putImageLayout(IntBuffer src) { scatter(VkDescriptorImageInfo.IMAGELAYOUT, src); return this; }
+
     }
 
 }
\ No newline at end of file
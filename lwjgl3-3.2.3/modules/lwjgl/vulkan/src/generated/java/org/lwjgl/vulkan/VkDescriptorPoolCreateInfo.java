@@ -287,6 +287,24 @@ public class VkDescriptorPoolCreateInfo extends Struct implements NativeResource
         return wrap(VkDescriptorPoolCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorPoolCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorPoolCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkDescriptorPoolCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorPoolCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorPoolCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkDescriptorPoolCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorPoolCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -325,6 +343,26 @@ public class VkDescriptorPoolCreateInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorPoolCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorPoolCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -442,6 +480,36 @@ public class VkDescriptorPoolCreateInfo extends Struct implements NativeResource
         /** Sets the address of the specified {@link VkDescriptorPoolSize.Buffer} to the {@code pPoolSizes} field. */
         public VkDescriptorPoolCreateInfo.Buffer pPoolSizes(@NativeType("VkDescriptorPoolSize const *") VkDescriptorPoolSize.Buffer value) { VkDescriptorPoolCreateInfo.npPoolSizes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolCreateInfo.Buffer getSType(int[] dst) { gather(VkDescriptorPoolCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkDescriptorPoolCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolCreateInfo.Buffer getFlags(int[] dst) { gather(VkDescriptorPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkDescriptorPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code maxSets} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolCreateInfo.Buffer getMaxSets(int[] dst) { gather(VkDescriptorPoolCreateInfo.MAXSETS, dst); return this; }
+        /** Copies the {@code maxSets} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolCreateInfo.Buffer getMaxSets(IntBuffer dst) { gather(VkDescriptorPoolCreateInfo.MAXSETS, dst); return this; }
+        /** Copies the {@code poolSizeCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolCreateInfo.Buffer getPoolSizeCount(int[] dst) { gather(VkDescriptorPoolCreateInfo.POOLSIZECOUNT, dst); return this; }
+        /** Copies the {@code poolSizeCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolCreateInfo.Buffer getPoolSizeCount(IntBuffer dst) { gather(VkDescriptorPoolCreateInfo.POOLSIZECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorPoolCreateInfo.Buffer putSType(int[] src) { scatter(VkDescriptorPoolCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorPoolCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkDescriptorPoolCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDescriptorPoolCreateInfo.Buffer putFlags(int[] src) { scatter(VkDescriptorPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDescriptorPoolCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkDescriptorPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code maxSets} field of the structs between the current position and limit. */
+        public VkDescriptorPoolCreateInfo.Buffer putMaxSets(int[] src) { scatter(VkDescriptorPoolCreateInfo.MAXSETS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxSets} field of the structs between the current position and limit. */
+        public VkDescriptorPoolCreateInfo.Buffer putMaxSets(IntBuffer src) { scatter(VkDescriptorPoolCreateInfo.MAXSETS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkDescriptorPoolInlineUniformBlockCreateInfoEXT extends Struct impl
         return wrap(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorPoolInlineUniformBlockCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorPoolInlineUniformBlockCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorPoolInlineUniformBlockCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorPoolInlineUniformBlockCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkDescriptorPoolInlineUniformBlockCreateInfoEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -337,6 +375,24 @@ public class VkDescriptorPoolInlineUniformBlockCreateInfoEXT extends Struct impl
         /** Sets the specified value to the {@code maxInlineUniformBlockBindings} field. */
         public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer maxInlineUniformBlockBindings(@NativeType("uint32_t") int value) { VkDescriptorPoolInlineUniformBlockCreateInfoEXT.nmaxInlineUniformBlockBindings(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxInlineUniformBlockBindings} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer getMaxInlineUniformBlockBindings(int[] dst) { gather(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.MAXINLINEUNIFORMBLOCKBINDINGS, dst); return this; }
+        /** Copies the {@code maxInlineUniformBlockBindings} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer getMaxInlineUniformBlockBindings(IntBuffer dst) { gather(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.MAXINLINEUNIFORMBLOCKBINDINGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxInlineUniformBlockBindings} field of the structs between the current position and limit. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer putMaxInlineUniformBlockBindings(int[] src) { scatter(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.MAXINLINEUNIFORMBLOCKBINDINGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxInlineUniformBlockBindings} field of the structs between the current position and limit. */
+        public VkDescriptorPoolInlineUniformBlockCreateInfoEXT.Buffer putMaxInlineUniformBlockBindings(IntBuffer src) { scatter(VkDescriptorPoolInlineUniformBlockCreateInfoEXT.MAXINLINEUNIFORMBLOCKBINDINGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkDescriptorPoolSize extends Struct implements NativeResource {
         return wrap(VkDescriptorPoolSize.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorPoolSize} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorPoolSize malloc(MemoryArena arena) {
+        return wrap(VkDescriptorPoolSize.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorPoolSize} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorPoolSize calloc(MemoryArena arena) {
+        return wrap(VkDescriptorPoolSize.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorPoolSize.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkDescriptorPoolSize extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorPoolSize.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorPoolSize.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorPoolSize.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorPoolSize.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -334,6 +372,24 @@ public class VkDescriptorPoolSize extends Struct implements NativeResource {
         /** Sets the specified value to the {@code descriptorCount} field. */
         public VkDescriptorPoolSize.Buffer descriptorCount(@NativeType("uint32_t") int value) { VkDescriptorPoolSize.ndescriptorCount(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolSize.Buffer getType(int[] dst) { gather(VkDescriptorPoolSize.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolSize.Buffer getType(IntBuffer dst) { gather(VkDescriptorPoolSize.TYPE, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorPoolSize.Buffer getDescriptorCount(int[] dst) { gather(VkDescriptorPoolSize.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorPoolSize.Buffer getDescriptorCount(IntBuffer dst) { gather(VkDescriptorPoolSize.DESCRIPTORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkDescriptorPoolSize.Buffer putType(int[] src) { scatter(VkDescriptorPoolSize.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkDescriptorPoolSize.Buffer putType(IntBuffer src) { scatter(VkDescriptorPoolSize.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkDescriptorPoolSize.Buffer putDescriptorCount(int[] src) { scatter(VkDescriptorPoolSize.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkDescriptorPoolSize.Buffer putDescriptorCount(IntBuffer src) { scatter(VkDescriptorPoolSize.DESCRIPTORCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -265,6 +265,24 @@ public class VkDescriptorSetAllocateInfo extends Struct implements NativeResourc
         return wrap(VkDescriptorSetAllocateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetAllocateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetAllocateInfo malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetAllocateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetAllocateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetAllocateInfo calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetAllocateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetAllocateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class VkDescriptorSetAllocateInfo extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetAllocateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetAllocateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -411,6 +449,28 @@ public class VkDescriptorSetAllocateInfo extends Struct implements NativeResourc
         /** Sets the address of the specified {@link LongBuffer} to the {@code pSetLayouts} field. */
         public VkDescriptorSetAllocateInfo.Buffer pSetLayouts(@NativeType("VkDescriptorSetLayout const *") LongBuffer value) { VkDescriptorSetAllocateInfo.npSetLayouts(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetAllocateInfo.Buffer getSType(int[] dst) { gather(VkDescriptorSetAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetAllocateInfo.Buffer getSType(IntBuffer dst) { gather(VkDescriptorSetAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code descriptorPool} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetAllocateInfo.Buffer getDescriptorPool(long[] dst) { gather(VkDescriptorSetAllocateInfo.DESCRIPTORPOOL, dst); return this; }
+        /** Copies the {@code descriptorPool} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetAllocateInfo.Buffer getDescriptorPool(LongBuffer dst) { gather(VkDescriptorSetAllocateInfo.DESCRIPTORPOOL, dst); return this; }
+        /** Copies the {@code descriptorSetCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetAllocateInfo.Buffer getDescriptorSetCount(int[] dst) { gather(VkDescriptorSetAllocateInfo.DESCRIPTORSETCOUNT, dst); return this; }
+        /** Copies the {@code descriptorSetCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetAllocateInfo.Buffer getDescriptorSetCount(IntBuffer dst) { gather(VkDescriptorSetAllocateInfo.DESCRIPTORSETCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetAllocateInfo.Buffer putSType(int[] src) { scatter(VkDescriptorSetAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetAllocateInfo.Buffer putSType(IntBuffer src) { scatter(VkDescriptorSetAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorPool} field of the structs between the current position and limit. */
+        public VkDescriptorSetAllocateInfo.Buffer putDescriptorPool(long[] src) { scatter(VkDescriptorSetAllocateInfo.DESCRIPTORPOOL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorPool} field of the structs between the current position and limit. */
+        public VkDescriptorSetAllocateInfo.Buffer putDescriptorPool(LongBuffer src) { scatter(VkDescriptorSetAllocateInfo.DESCRIPTORPOOL, src); return this; }
+
     }
 
 }
\ No newline at end of file
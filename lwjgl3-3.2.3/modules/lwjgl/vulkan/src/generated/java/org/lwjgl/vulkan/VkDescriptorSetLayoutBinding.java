@@ -278,6 +278,24 @@ public class VkDescriptorSetLayoutBinding extends Struct implements NativeResour
         return wrap(VkDescriptorSetLayoutBinding.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutBinding} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBinding malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutBinding.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutBinding} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBinding calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutBinding.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetLayoutBinding.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -316,6 +334,26 @@ public class VkDescriptorSetLayoutBinding extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutBinding.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBinding.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutBinding.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBinding.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #binding}. */
@@ -406,6 +444,40 @@ public class VkDescriptorSetLayoutBinding extends Struct implements NativeResour
         /** Sets the address of the specified {@link LongBuffer} to the {@code pImmutableSamplers} field. */
         public VkDescriptorSetLayoutBinding.Buffer pImmutableSamplers(@Nullable @NativeType("VkSampler const *") LongBuffer value) { VkDescriptorSetLayoutBinding.npImmutableSamplers(address(), value); return this; }
 
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutBinding.Buffer getBinding(int[] dst) { gather(VkDescriptorSetLayoutBinding.BINDING, dst); return this; }
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutBinding.Buffer getBinding(IntBuffer dst) { gather(VkDescriptorSetLayoutBinding.BINDING, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutBinding.Buffer getDescriptorType(int[] dst) { gather(VkDescriptorSetLayoutBinding.DESCRIPTORTYPE, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutBinding.Buffer getDescriptorType(IntBuffer dst) { gather(VkDescriptorSetLayoutBinding.DESCRIPTORTYPE, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutBinding.Buffer getDescriptorCount(int[] dst) { gather(VkDescriptorSetLayoutBinding.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutBinding.Buffer getDescriptorCount(IntBuffer dst) { gather(VkDescriptorSetLayoutBinding.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code stageFlags} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutBinding.Buffer getStageFlags(int[] dst) { gather(VkDescriptorSetLayoutBinding.STAGEFLAGS, dst); return this; }
+        /** Copies the {@code stageFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutBinding.Buffer getStageFlags(IntBuffer dst) { gather(VkDescriptorSetLayoutBinding.STAGEFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code binding} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putBinding(int[] src) { scatter(VkDescriptorSetLayoutBinding.BINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code binding} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putBinding(IntBuffer src) { scatter(VkDescriptorSetLayoutBinding.BINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putDescriptorType(int[] src) { scatter(VkDescriptorSetLayoutBinding.DESCRIPTORTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putDescriptorType(IntBuffer src) { scatter(VkDescriptorSetLayoutBinding.DESCRIPTORTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putDescriptorCount(int[] src) { scatter(VkDescriptorSetLayoutBinding.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putDescriptorCount(IntBuffer src) { scatter(VkDescriptorSetLayoutBinding.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code stageFlags} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putStageFlags(int[] src) { scatter(VkDescriptorSetLayoutBinding.STAGEFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stageFlags} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBinding.Buffer putStageFlags(IntBuffer src) { scatter(VkDescriptorSetLayoutBinding.STAGEFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
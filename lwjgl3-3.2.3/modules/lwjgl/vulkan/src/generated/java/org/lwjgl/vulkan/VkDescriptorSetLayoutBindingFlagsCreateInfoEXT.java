@@ -266,6 +266,24 @@ public class VkDescriptorSetLayoutBindingFlagsCreateInfoEXT extends Struct imple
         return wrap(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutBindingFlagsCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBindingFlagsCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutBindingFlagsCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBindingFlagsCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -304,6 +322,26 @@ public class VkDescriptorSetLayoutBindingFlagsCreateInfoEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -385,6 +423,24 @@ public class VkDescriptorSetLayoutBindingFlagsCreateInfoEXT extends Struct imple
         /** Sets the address of the specified {@link IntBuffer} to the {@code pBindingFlags} field. */
         public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer pBindingFlags(@Nullable @NativeType("VkDescriptorBindingFlagsEXT const *") IntBuffer value) { VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.npBindingFlags(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code bindingCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer getBindingCount(int[] dst) { gather(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.BINDINGCOUNT, dst); return this; }
+        /** Copies the {@code bindingCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer getBindingCount(IntBuffer dst) { gather(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.BINDINGCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code bindingCount} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer putBindingCount(int[] src) { scatter(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.BINDINGCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bindingCount} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.Buffer putBindingCount(IntBuffer src) { scatter(VkDescriptorSetLayoutBindingFlagsCreateInfoEXT.BINDINGCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
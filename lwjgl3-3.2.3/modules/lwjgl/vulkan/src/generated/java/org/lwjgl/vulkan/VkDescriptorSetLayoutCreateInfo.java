@@ -268,6 +268,24 @@ public class VkDescriptorSetLayoutCreateInfo extends Struct implements NativeRes
         return wrap(VkDescriptorSetLayoutCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetLayoutCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -306,6 +324,26 @@ public class VkDescriptorSetLayoutCreateInfo extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -417,6 +455,28 @@ public class VkDescriptorSetLayoutCreateInfo extends Struct implements NativeRes
         /** Sets the address of the specified {@link VkDescriptorSetLayoutBinding.Buffer} to the {@code pBindings} field. */
         public VkDescriptorSetLayoutCreateInfo.Buffer pBindings(@Nullable @NativeType("VkDescriptorSetLayoutBinding const *") VkDescriptorSetLayoutBinding.Buffer value) { VkDescriptorSetLayoutCreateInfo.npBindings(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer getSType(int[] dst) { gather(VkDescriptorSetLayoutCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkDescriptorSetLayoutCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer getFlags(int[] dst) { gather(VkDescriptorSetLayoutCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkDescriptorSetLayoutCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code bindingCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer getBindingCount(int[] dst) { gather(VkDescriptorSetLayoutCreateInfo.BINDINGCOUNT, dst); return this; }
+        /** Copies the {@code bindingCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer getBindingCount(IntBuffer dst) { gather(VkDescriptorSetLayoutCreateInfo.BINDINGCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer putSType(int[] src) { scatter(VkDescriptorSetLayoutCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkDescriptorSetLayoutCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer putFlags(int[] src) { scatter(VkDescriptorSetLayoutCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkDescriptorSetLayoutCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
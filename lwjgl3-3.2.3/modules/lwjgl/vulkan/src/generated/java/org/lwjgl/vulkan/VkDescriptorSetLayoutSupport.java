@@ -233,6 +233,24 @@ public class VkDescriptorSetLayoutSupport extends Struct implements NativeResour
         return wrap(VkDescriptorSetLayoutSupport.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutSupport} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutSupport malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutSupport.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetLayoutSupport} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutSupport calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetLayoutSupport.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetLayoutSupport.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkDescriptorSetLayoutSupport extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutSupport.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutSupport.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetLayoutSupport.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetLayoutSupport.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,16 @@ public class VkDescriptorSetLayoutSupport extends Struct implements NativeResour
         /** Sets the specified value to the {@code pNext} field. */
         public VkDescriptorSetLayoutSupport.Buffer pNext(@NativeType("void *") long value) { VkDescriptorSetLayoutSupport.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetLayoutSupport.Buffer getSType(int[] dst) { gather(VkDescriptorSetLayoutSupport.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetLayoutSupport.Buffer getSType(IntBuffer dst) { gather(VkDescriptorSetLayoutSupport.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutSupport.Buffer putSType(int[] src) { scatter(VkDescriptorSetLayoutSupport.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetLayoutSupport.Buffer putSType(IntBuffer src) { scatter(VkDescriptorSetLayoutSupport.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -250,6 +250,24 @@ public class VkDescriptorSetVariableDescriptorCountAllocateInfoEXT extends Struc
         return wrap(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetVariableDescriptorCountAllocateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountAllocateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetVariableDescriptorCountAllocateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountAllocateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -288,6 +306,26 @@ public class VkDescriptorSetVariableDescriptorCountAllocateInfoEXT extends Struc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -390,6 +428,20 @@ public class VkDescriptorSetVariableDescriptorCountAllocateInfoEXT extends Struc
         /** Sets the address of the specified {@link IntBuffer} to the {@code pDescriptorCounts} field. */
         public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer pDescriptorCounts(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.npDescriptorCounts(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer getSType(int[] dst) { gather(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code descriptorSetCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer getDescriptorSetCount(int[] dst) { gather(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.DESCRIPTORSETCOUNT, dst); return this; }
+        /** Copies the {@code descriptorSetCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer getDescriptorSetCount(IntBuffer dst) { gather(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.DESCRIPTORSETCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer putSType(int[] src) { scatter(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDescriptorSetVariableDescriptorCountAllocateInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
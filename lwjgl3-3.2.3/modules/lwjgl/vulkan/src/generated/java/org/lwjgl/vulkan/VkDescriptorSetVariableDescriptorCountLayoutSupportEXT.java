@@ -228,6 +228,24 @@ public class VkDescriptorSetVariableDescriptorCountLayoutSupportEXT extends Stru
         return wrap(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorSetVariableDescriptorCountLayoutSupportEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountLayoutSupportEXT malloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorSetVariableDescriptorCountLayoutSupportEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountLayoutSupportEXT calloc(MemoryArena arena) {
+        return wrap(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkDescriptorSetVariableDescriptorCountLayoutSupportEXT extends Stru
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkDescriptorSetVariableDescriptorCountLayoutSupportEXT extends Stru
         /** Sets the specified value to the {@code pNext} field. */
         public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer pNext(@NativeType("void *") long value) { VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer getSType(int[] dst) { gather(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer getSType(IntBuffer dst) { gather(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxVariableDescriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer getMaxVariableDescriptorCount(int[] dst) { gather(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.MAXVARIABLEDESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code maxVariableDescriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer getMaxVariableDescriptorCount(IntBuffer dst) { gather(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.MAXVARIABLEDESCRIPTORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer putSType(int[] src) { scatter(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.Buffer putSType(IntBuffer src) { scatter(VkDescriptorSetVariableDescriptorCountLayoutSupportEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
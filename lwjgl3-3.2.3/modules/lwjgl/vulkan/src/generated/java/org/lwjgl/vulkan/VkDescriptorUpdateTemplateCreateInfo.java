@@ -329,6 +329,24 @@ public class VkDescriptorUpdateTemplateCreateInfo extends Struct implements Nati
         return wrap(VkDescriptorUpdateTemplateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorUpdateTemplateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkDescriptorUpdateTemplateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorUpdateTemplateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkDescriptorUpdateTemplateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorUpdateTemplateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -367,6 +385,26 @@ public class VkDescriptorUpdateTemplateCreateInfo extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorUpdateTemplateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorUpdateTemplateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -520,6 +558,68 @@ public class VkDescriptorUpdateTemplateCreateInfo extends Struct implements Nati
         /** Sets the specified value to the {@code set} field. */
         public VkDescriptorUpdateTemplateCreateInfo.Buffer set(@NativeType("uint32_t") int value) { VkDescriptorUpdateTemplateCreateInfo.nset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getSType(int[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getFlags(int[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code descriptorUpdateEntryCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getDescriptorUpdateEntryCount(int[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.DESCRIPTORUPDATEENTRYCOUNT, dst); return this; }
+        /** Copies the {@code descriptorUpdateEntryCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getDescriptorUpdateEntryCount(IntBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.DESCRIPTORUPDATEENTRYCOUNT, dst); return this; }
+        /** Copies the {@code templateType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getTemplateType(int[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.TEMPLATETYPE, dst); return this; }
+        /** Copies the {@code templateType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getTemplateType(IntBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.TEMPLATETYPE, dst); return this; }
+        /** Copies the {@code descriptorSetLayout} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getDescriptorSetLayout(long[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.DESCRIPTORSETLAYOUT, dst); return this; }
+        /** Copies the {@code descriptorSetLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getDescriptorSetLayout(LongBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.DESCRIPTORSETLAYOUT, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getPipelineBindPoint(int[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getPipelineBindPoint(IntBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code pipelineLayout} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getPipelineLayout(long[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.PIPELINELAYOUT, dst); return this; }
+        /** Copies the {@code pipelineLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getPipelineLayout(LongBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.PIPELINELAYOUT, dst); return this; }
+        /** Copies the {@code set} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getSet(int[] dst) { gather(VkDescriptorUpdateTemplateCreateInfo.SET, dst); return this; }
+        /** Copies the {@code set} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer getSet(IntBuffer dst) { gather(VkDescriptorUpdateTemplateCreateInfo.SET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putSType(int[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putFlags(int[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code templateType} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putTemplateType(int[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.TEMPLATETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code templateType} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putTemplateType(IntBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.TEMPLATETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorSetLayout} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putDescriptorSetLayout(long[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.DESCRIPTORSETLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorSetLayout} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putDescriptorSetLayout(LongBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.DESCRIPTORSETLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putPipelineBindPoint(int[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putPipelineBindPoint(IntBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineLayout} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putPipelineLayout(long[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.PIPELINELAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineLayout} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putPipelineLayout(LongBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.PIPELINELAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code set} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putSet(int[] src) { scatter(VkDescriptorUpdateTemplateCreateInfo.SET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code set} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateCreateInfo.Buffer putSet(IntBuffer src) { scatter(VkDescriptorUpdateTemplateCreateInfo.SET, src); return this; }
+
     }
 
 }
\ No newline at end of file
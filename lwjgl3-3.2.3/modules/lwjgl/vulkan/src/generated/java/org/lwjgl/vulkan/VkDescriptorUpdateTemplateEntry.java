@@ -282,6 +282,24 @@ public class VkDescriptorUpdateTemplateEntry extends Struct implements NativeRes
         return wrap(VkDescriptorUpdateTemplateEntry.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDescriptorUpdateTemplateEntry} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateEntry malloc(MemoryArena arena) {
+        return wrap(VkDescriptorUpdateTemplateEntry.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDescriptorUpdateTemplateEntry} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateEntry calloc(MemoryArena arena) {
+        return wrap(VkDescriptorUpdateTemplateEntry.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDescriptorUpdateTemplateEntry.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -320,6 +338,26 @@ public class VkDescriptorUpdateTemplateEntry extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDescriptorUpdateTemplateEntry.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateEntry.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDescriptorUpdateTemplateEntry.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDescriptorUpdateTemplateEntry.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #dstBinding}. */
@@ -418,6 +456,40 @@ public class VkDescriptorUpdateTemplateEntry extends Struct implements NativeRes
         /** Sets the specified value to the {@code stride} field. */
         public VkDescriptorUpdateTemplateEntry.Buffer stride(@NativeType("size_t") long value) { VkDescriptorUpdateTemplateEntry.nstride(address(), value); return this; }
 
+        /** Copies the {@code dstBinding} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDstBinding(int[] dst) { gather(VkDescriptorUpdateTemplateEntry.DSTBINDING, dst); return this; }
+        /** Copies the {@code dstBinding} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDstBinding(IntBuffer dst) { gather(VkDescriptorUpdateTemplateEntry.DSTBINDING, dst); return this; }
+        /** Copies the {@code dstArrayElement} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDstArrayElement(int[] dst) { gather(VkDescriptorUpdateTemplateEntry.DSTARRAYELEMENT, dst); return this; }
+        /** Copies the {@code dstArrayElement} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDstArrayElement(IntBuffer dst) { gather(VkDescriptorUpdateTemplateEntry.DSTARRAYELEMENT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDescriptorCount(int[] dst) { gather(VkDescriptorUpdateTemplateEntry.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDescriptorCount(IntBuffer dst) { gather(VkDescriptorUpdateTemplateEntry.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified array. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDescriptorType(int[] dst) { gather(VkDescriptorUpdateTemplateEntry.DESCRIPTORTYPE, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDescriptorUpdateTemplateEntry.Buffer getDescriptorType(IntBuffer dst) { gather(VkDescriptorUpdateTemplateEntry.DESCRIPTORTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code dstBinding} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDstBinding(int[] src) { scatter(VkDescriptorUpdateTemplateEntry.DSTBINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstBinding} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDstBinding(IntBuffer src) { scatter(VkDescriptorUpdateTemplateEntry.DSTBINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code dstArrayElement} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDstArrayElement(int[] src) { scatter(VkDescriptorUpdateTemplateEntry.DSTARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstArrayElement} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDstArrayElement(IntBuffer src) { scatter(VkDescriptorUpdateTemplateEntry.DSTARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDescriptorCount(int[] src) { scatter(VkDescriptorUpdateTemplateEntry.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDescriptorCount(IntBuffer src) { scatter(VkDescriptorUpdateTemplateEntry.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDescriptorType(int[] src) { scatter(VkDescriptorUpdateTemplateEntry.DESCRIPTORTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkDescriptorUpdateTemplateEntry.Buffer putDescriptorType(IntBuffer src) { scatter(VkDescriptorUpdateTemplateEntry.DESCRIPTORTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
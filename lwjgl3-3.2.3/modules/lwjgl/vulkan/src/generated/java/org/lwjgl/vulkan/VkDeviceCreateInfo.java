@@ -324,6 +324,24 @@ public class VkDeviceCreateInfo extends Struct implements NativeResource {
         return wrap(VkDeviceCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -362,6 +380,26 @@ public class VkDeviceCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -523,6 +561,36 @@ public class VkDeviceCreateInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkPhysicalDeviceFeatures} to the {@code pEnabledFeatures} field. */
         public VkDeviceCreateInfo.Buffer pEnabledFeatures(@Nullable @NativeType("VkPhysicalDeviceFeatures const *") VkPhysicalDeviceFeatures value) { VkDeviceCreateInfo.npEnabledFeatures(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceCreateInfo.Buffer getSType(int[] dst) { gather(VkDeviceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceCreateInfo.Buffer getFlags(int[] dst) { gather(VkDeviceCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkDeviceCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code queueCreateInfoCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceCreateInfo.Buffer getQueueCreateInfoCount(int[] dst) { gather(VkDeviceCreateInfo.QUEUECREATEINFOCOUNT, dst); return this; }
+        /** Copies the {@code queueCreateInfoCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceCreateInfo.Buffer getQueueCreateInfoCount(IntBuffer dst) { gather(VkDeviceCreateInfo.QUEUECREATEINFOCOUNT, dst); return this; }
+        /** Copies the {@code enabledLayerCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceCreateInfo.Buffer getEnabledLayerCount(int[] dst) { gather(VkDeviceCreateInfo.ENABLEDLAYERCOUNT, dst); return this; }
+        /** Copies the {@code enabledLayerCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceCreateInfo.Buffer getEnabledLayerCount(IntBuffer dst) { gather(VkDeviceCreateInfo.ENABLEDLAYERCOUNT, dst); return this; }
+        /** Copies the {@code enabledExtensionCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceCreateInfo.Buffer getEnabledExtensionCount(int[] dst) { gather(VkDeviceCreateInfo.ENABLEDEXTENSIONCOUNT, dst); return this; }
+        /** Copies the {@code enabledExtensionCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceCreateInfo.Buffer getEnabledExtensionCount(IntBuffer dst) { gather(VkDeviceCreateInfo.ENABLEDEXTENSIONCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceCreateInfo.Buffer putSType(int[] src) { scatter(VkDeviceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDeviceCreateInfo.Buffer putFlags(int[] src) { scatter(VkDeviceCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDeviceCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkDeviceCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkDeviceEventInfoEXT extends Struct implements NativeResource {
         return wrap(VkDeviceEventInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceEventInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceEventInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDeviceEventInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceEventInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceEventInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDeviceEventInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceEventInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkDeviceEventInfoEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceEventInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceEventInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceEventInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceEventInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,24 @@ public class VkDeviceEventInfoEXT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code deviceEvent} field. */
         public VkDeviceEventInfoEXT.Buffer deviceEvent(@NativeType("VkDeviceEventTypeEXT") int value) { VkDeviceEventInfoEXT.ndeviceEvent(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceEventInfoEXT.Buffer getSType(int[] dst) { gather(VkDeviceEventInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceEventInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDeviceEventInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code deviceEvent} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceEventInfoEXT.Buffer getDeviceEvent(int[] dst) { gather(VkDeviceEventInfoEXT.DEVICEEVENT, dst); return this; }
+        /** Copies the {@code deviceEvent} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceEventInfoEXT.Buffer getDeviceEvent(IntBuffer dst) { gather(VkDeviceEventInfoEXT.DEVICEEVENT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceEventInfoEXT.Buffer putSType(int[] src) { scatter(VkDeviceEventInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceEventInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDeviceEventInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code deviceEvent} field of the structs between the current position and limit. */
+        public VkDeviceEventInfoEXT.Buffer putDeviceEvent(int[] src) { scatter(VkDeviceEventInfoEXT.DEVICEEVENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code deviceEvent} field of the structs between the current position and limit. */
+        public VkDeviceEventInfoEXT.Buffer putDeviceEvent(IntBuffer src) { scatter(VkDeviceEventInfoEXT.DEVICEEVENT, src); return this; }
+
     }
 
 }
\ No newline at end of file
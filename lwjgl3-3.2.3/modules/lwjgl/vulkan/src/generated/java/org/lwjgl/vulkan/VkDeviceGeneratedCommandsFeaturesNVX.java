@@ -233,6 +233,24 @@ public class VkDeviceGeneratedCommandsFeaturesNVX extends Struct implements Nati
         return wrap(VkDeviceGeneratedCommandsFeaturesNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGeneratedCommandsFeaturesNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsFeaturesNVX malloc(MemoryArena arena) {
+        return wrap(VkDeviceGeneratedCommandsFeaturesNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGeneratedCommandsFeaturesNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsFeaturesNVX calloc(MemoryArena arena) {
+        return wrap(VkDeviceGeneratedCommandsFeaturesNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGeneratedCommandsFeaturesNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkDeviceGeneratedCommandsFeaturesNVX extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGeneratedCommandsFeaturesNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsFeaturesNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGeneratedCommandsFeaturesNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsFeaturesNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,16 @@ public class VkDeviceGeneratedCommandsFeaturesNVX extends Struct implements Nati
         /** Sets the specified value to the {@code computeBindingPointSupport} field. */
         public VkDeviceGeneratedCommandsFeaturesNVX.Buffer computeBindingPointSupport(@NativeType("VkBool32") boolean value) { VkDeviceGeneratedCommandsFeaturesNVX.ncomputeBindingPointSupport(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsFeaturesNVX.Buffer getSType(int[] dst) { gather(VkDeviceGeneratedCommandsFeaturesNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsFeaturesNVX.Buffer getSType(IntBuffer dst) { gather(VkDeviceGeneratedCommandsFeaturesNVX.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsFeaturesNVX.Buffer putSType(int[] src) { scatter(VkDeviceGeneratedCommandsFeaturesNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsFeaturesNVX.Buffer putSType(IntBuffer src) { scatter(VkDeviceGeneratedCommandsFeaturesNVX.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
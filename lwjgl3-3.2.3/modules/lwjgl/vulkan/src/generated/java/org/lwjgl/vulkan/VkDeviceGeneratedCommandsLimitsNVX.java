@@ -281,6 +281,24 @@ public class VkDeviceGeneratedCommandsLimitsNVX extends Struct implements Native
         return wrap(VkDeviceGeneratedCommandsLimitsNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGeneratedCommandsLimitsNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsLimitsNVX malloc(MemoryArena arena) {
+        return wrap(VkDeviceGeneratedCommandsLimitsNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGeneratedCommandsLimitsNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsLimitsNVX calloc(MemoryArena arena) {
+        return wrap(VkDeviceGeneratedCommandsLimitsNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGeneratedCommandsLimitsNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -319,6 +337,26 @@ public class VkDeviceGeneratedCommandsLimitsNVX extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGeneratedCommandsLimitsNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsLimitsNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGeneratedCommandsLimitsNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGeneratedCommandsLimitsNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -426,6 +464,56 @@ public class VkDeviceGeneratedCommandsLimitsNVX extends Struct implements Native
         /** Sets the specified value to the {@code minCommandsTokenBufferOffsetAlignment} field. */
         public VkDeviceGeneratedCommandsLimitsNVX.Buffer minCommandsTokenBufferOffsetAlignment(@NativeType("uint32_t") int value) { VkDeviceGeneratedCommandsLimitsNVX.nminCommandsTokenBufferOffsetAlignment(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getSType(int[] dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getSType(IntBuffer dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.STYPE, dst); return this; }
+        /** Copies the {@code maxIndirectCommandsLayoutTokenCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMaxIndirectCommandsLayoutTokenCount(int[] dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MAXINDIRECTCOMMANDSLAYOUTTOKENCOUNT, dst); return this; }
+        /** Copies the {@code maxIndirectCommandsLayoutTokenCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMaxIndirectCommandsLayoutTokenCount(IntBuffer dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MAXINDIRECTCOMMANDSLAYOUTTOKENCOUNT, dst); return this; }
+        /** Copies the {@code maxObjectEntryCounts} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMaxObjectEntryCounts(int[] dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MAXOBJECTENTRYCOUNTS, dst); return this; }
+        /** Copies the {@code maxObjectEntryCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMaxObjectEntryCounts(IntBuffer dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MAXOBJECTENTRYCOUNTS, dst); return this; }
+        /** Copies the {@code minSequenceCountBufferOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMinSequenceCountBufferOffsetAlignment(int[] dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCECOUNTBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minSequenceCountBufferOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMinSequenceCountBufferOffsetAlignment(IntBuffer dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCECOUNTBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minSequenceIndexBufferOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMinSequenceIndexBufferOffsetAlignment(int[] dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCEINDEXBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minSequenceIndexBufferOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMinSequenceIndexBufferOffsetAlignment(IntBuffer dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCEINDEXBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minCommandsTokenBufferOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMinCommandsTokenBufferOffsetAlignment(int[] dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MINCOMMANDSTOKENBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minCommandsTokenBufferOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer getMinCommandsTokenBufferOffsetAlignment(IntBuffer dst) { gather(VkDeviceGeneratedCommandsLimitsNVX.MINCOMMANDSTOKENBUFFEROFFSETALIGNMENT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putSType(int[] src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putSType(IntBuffer src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxIndirectCommandsLayoutTokenCount} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMaxIndirectCommandsLayoutTokenCount(int[] src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MAXINDIRECTCOMMANDSLAYOUTTOKENCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxIndirectCommandsLayoutTokenCount} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMaxIndirectCommandsLayoutTokenCount(IntBuffer src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MAXINDIRECTCOMMANDSLAYOUTTOKENCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code maxObjectEntryCounts} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMaxObjectEntryCounts(int[] src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MAXOBJECTENTRYCOUNTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxObjectEntryCounts} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMaxObjectEntryCounts(IntBuffer src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MAXOBJECTENTRYCOUNTS, src); return this; }
+        /** Copies the values in the specified array to the {@code minSequenceCountBufferOffsetAlignment} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMinSequenceCountBufferOffsetAlignment(int[] src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCECOUNTBUFFEROFFSETALIGNMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minSequenceCountBufferOffsetAlignment} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMinSequenceCountBufferOffsetAlignment(IntBuffer src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCECOUNTBUFFEROFFSETALIGNMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code minSequenceIndexBufferOffsetAlignment} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMinSequenceIndexBufferOffsetAlignment(int[] src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCEINDEXBUFFEROFFSETALIGNMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minSequenceIndexBufferOffsetAlignment} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMinSequenceIndexBufferOffsetAlignment(IntBuffer src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MINSEQUENCEINDEXBUFFEROFFSETALIGNMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code minCommandsTokenBufferOffsetAlignment} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMinCommandsTokenBufferOffsetAlignment(int[] src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MINCOMMANDSTOKENBUFFEROFFSETALIGNMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minCommandsTokenBufferOffsetAlignment} field of the structs between the current position and limit. */
+        public VkDeviceGeneratedCommandsLimitsNVX.Buffer putMinCommandsTokenBufferOffsetAlignment(IntBuffer src) { scatter(VkDeviceGeneratedCommandsLimitsNVX.MINCOMMANDSTOKENBUFFEROFFSETALIGNMENT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class VkDeviceGroupBindSparseInfo extends Struct implements NativeResourc
         return wrap(VkDeviceGroupBindSparseInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupBindSparseInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupBindSparseInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupBindSparseInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupBindSparseInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupBindSparseInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupBindSparseInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupBindSparseInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkDeviceGroupBindSparseInfo extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupBindSparseInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupBindSparseInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupBindSparseInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupBindSparseInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -371,6 +409,32 @@ public class VkDeviceGroupBindSparseInfo extends Struct implements NativeResourc
         /** Sets the specified value to the {@code memoryDeviceIndex} field. */
         public VkDeviceGroupBindSparseInfo.Buffer memoryDeviceIndex(@NativeType("uint32_t") int value) { VkDeviceGroupBindSparseInfo.nmemoryDeviceIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupBindSparseInfo.Buffer getSType(int[] dst) { gather(VkDeviceGroupBindSparseInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupBindSparseInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupBindSparseInfo.STYPE, dst); return this; }
+        /** Copies the {@code resourceDeviceIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupBindSparseInfo.Buffer getResourceDeviceIndex(int[] dst) { gather(VkDeviceGroupBindSparseInfo.RESOURCEDEVICEINDEX, dst); return this; }
+        /** Copies the {@code resourceDeviceIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupBindSparseInfo.Buffer getResourceDeviceIndex(IntBuffer dst) { gather(VkDeviceGroupBindSparseInfo.RESOURCEDEVICEINDEX, dst); return this; }
+        /** Copies the {@code memoryDeviceIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupBindSparseInfo.Buffer getMemoryDeviceIndex(int[] dst) { gather(VkDeviceGroupBindSparseInfo.MEMORYDEVICEINDEX, dst); return this; }
+        /** Copies the {@code memoryDeviceIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupBindSparseInfo.Buffer getMemoryDeviceIndex(IntBuffer dst) { gather(VkDeviceGroupBindSparseInfo.MEMORYDEVICEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupBindSparseInfo.Buffer putSType(int[] src) { scatter(VkDeviceGroupBindSparseInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupBindSparseInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupBindSparseInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code resourceDeviceIndex} field of the structs between the current position and limit. */
+        public VkDeviceGroupBindSparseInfo.Buffer putResourceDeviceIndex(int[] src) { scatter(VkDeviceGroupBindSparseInfo.RESOURCEDEVICEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code resourceDeviceIndex} field of the structs between the current position and limit. */
+        public VkDeviceGroupBindSparseInfo.Buffer putResourceDeviceIndex(IntBuffer src) { scatter(VkDeviceGroupBindSparseInfo.RESOURCEDEVICEINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryDeviceIndex} field of the structs between the current position and limit. */
+        public VkDeviceGroupBindSparseInfo.Buffer putMemoryDeviceIndex(int[] src) { scatter(VkDeviceGroupBindSparseInfo.MEMORYDEVICEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryDeviceIndex} field of the structs between the current position and limit. */
+        public VkDeviceGroupBindSparseInfo.Buffer putMemoryDeviceIndex(IntBuffer src) { scatter(VkDeviceGroupBindSparseInfo.MEMORYDEVICEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
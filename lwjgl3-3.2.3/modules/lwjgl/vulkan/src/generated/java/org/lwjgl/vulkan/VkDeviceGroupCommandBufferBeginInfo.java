@@ -241,6 +241,24 @@ public class VkDeviceGroupCommandBufferBeginInfo extends Struct implements Nativ
         return wrap(VkDeviceGroupCommandBufferBeginInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupCommandBufferBeginInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupCommandBufferBeginInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupCommandBufferBeginInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupCommandBufferBeginInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupCommandBufferBeginInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -279,6 +297,26 @@ public class VkDeviceGroupCommandBufferBeginInfo extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupCommandBufferBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupCommandBufferBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -350,6 +388,24 @@ public class VkDeviceGroupCommandBufferBeginInfo extends Struct implements Nativ
         /** Sets the specified value to the {@code deviceMask} field. */
         public VkDeviceGroupCommandBufferBeginInfo.Buffer deviceMask(@NativeType("uint32_t") int value) { VkDeviceGroupCommandBufferBeginInfo.ndeviceMask(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer getSType(int[] dst) { gather(VkDeviceGroupCommandBufferBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupCommandBufferBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer getDeviceMask(int[] dst) { gather(VkDeviceGroupCommandBufferBeginInfo.DEVICEMASK, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer getDeviceMask(IntBuffer dst) { gather(VkDeviceGroupCommandBufferBeginInfo.DEVICEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer putSType(int[] src) { scatter(VkDeviceGroupCommandBufferBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupCommandBufferBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer putDeviceMask(int[] src) { scatter(VkDeviceGroupCommandBufferBeginInfo.DEVICEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkDeviceGroupCommandBufferBeginInfo.Buffer putDeviceMask(IntBuffer src) { scatter(VkDeviceGroupCommandBufferBeginInfo.DEVICEMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -178,6 +178,24 @@ public class VkDeviceGroupCommandBufferBeginInfoKHR extends VkDeviceGroupCommand
         return wrap(VkDeviceGroupCommandBufferBeginInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupCommandBufferBeginInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupCommandBufferBeginInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupCommandBufferBeginInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupCommandBufferBeginInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupCommandBufferBeginInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -216,6 +234,26 @@ public class VkDeviceGroupCommandBufferBeginInfoKHR extends VkDeviceGroupCommand
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupCommandBufferBeginInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupCommandBufferBeginInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupCommandBufferBeginInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** An array of {@link VkDeviceGroupCommandBufferBeginInfoKHR} structs. */
@@ -253,6 +253,24 @@ public class VkDeviceGroupDeviceCreateInfo extends Struct implements NativeResou
         return wrap(VkDeviceGroupDeviceCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupDeviceCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupDeviceCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupDeviceCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupDeviceCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupDeviceCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupDeviceCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupDeviceCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkDeviceGroupDeviceCreateInfo extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupDeviceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupDeviceCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupDeviceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupDeviceCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -393,6 +431,20 @@ public class VkDeviceGroupDeviceCreateInfo extends Struct implements NativeResou
         /** Sets the address of the specified {@link PointerBuffer} to the {@code pPhysicalDevices} field. */
         public VkDeviceGroupDeviceCreateInfo.Buffer pPhysicalDevices(@Nullable @NativeType("VkPhysicalDevice const *") PointerBuffer value) { VkDeviceGroupDeviceCreateInfo.npPhysicalDevices(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupDeviceCreateInfo.Buffer getSType(int[] dst) { gather(VkDeviceGroupDeviceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupDeviceCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupDeviceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code physicalDeviceCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupDeviceCreateInfo.Buffer getPhysicalDeviceCount(int[] dst) { gather(VkDeviceGroupDeviceCreateInfo.PHYSICALDEVICECOUNT, dst); return this; }
+        /** Copies the {@code physicalDeviceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupDeviceCreateInfo.Buffer getPhysicalDeviceCount(IntBuffer dst) { gather(VkDeviceGroupDeviceCreateInfo.PHYSICALDEVICECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupDeviceCreateInfo.Buffer putSType(int[] src) { scatter(VkDeviceGroupDeviceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupDeviceCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupDeviceCreateInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class VkDeviceGroupPresentCapabilitiesKHR extends Struct implements Nativ
         return wrap(VkDeviceGroupPresentCapabilitiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupPresentCapabilitiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentCapabilitiesKHR malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupPresentCapabilitiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupPresentCapabilitiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentCapabilitiesKHR calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupPresentCapabilitiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupPresentCapabilitiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkDeviceGroupPresentCapabilitiesKHR extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupPresentCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentCapabilitiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupPresentCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentCapabilitiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -369,6 +407,20 @@ public class VkDeviceGroupPresentCapabilitiesKHR extends Struct implements Nativ
         /** Sets the specified value to the {@code pNext} field. */
         public VkDeviceGroupPresentCapabilitiesKHR.Buffer pNext(@NativeType("void const *") long value) { VkDeviceGroupPresentCapabilitiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupPresentCapabilitiesKHR.Buffer getSType(int[] dst) { gather(VkDeviceGroupPresentCapabilitiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupPresentCapabilitiesKHR.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupPresentCapabilitiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code modes} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupPresentCapabilitiesKHR.Buffer getModes(int[] dst) { gather(VkDeviceGroupPresentCapabilitiesKHR.MODES, dst); return this; }
+        /** Copies the {@code modes} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupPresentCapabilitiesKHR.Buffer getModes(IntBuffer dst) { gather(VkDeviceGroupPresentCapabilitiesKHR.MODES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupPresentCapabilitiesKHR.Buffer putSType(int[] src) { scatter(VkDeviceGroupPresentCapabilitiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupPresentCapabilitiesKHR.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupPresentCapabilitiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
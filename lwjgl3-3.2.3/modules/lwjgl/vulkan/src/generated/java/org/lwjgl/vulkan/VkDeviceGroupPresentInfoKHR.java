@@ -276,6 +276,24 @@ public class VkDeviceGroupPresentInfoKHR extends Struct implements NativeResourc
         return wrap(VkDeviceGroupPresentInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupPresentInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupPresentInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupPresentInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupPresentInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupPresentInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -314,6 +332,26 @@ public class VkDeviceGroupPresentInfoKHR extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupPresentInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupPresentInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupPresentInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -425,6 +463,28 @@ public class VkDeviceGroupPresentInfoKHR extends Struct implements NativeResourc
         /** Sets the specified value to the {@code mode} field. */
         public VkDeviceGroupPresentInfoKHR.Buffer mode(@NativeType("VkDeviceGroupPresentModeFlagBitsKHR") int value) { VkDeviceGroupPresentInfoKHR.nmode(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupPresentInfoKHR.Buffer getSType(int[] dst) { gather(VkDeviceGroupPresentInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupPresentInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupPresentInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupPresentInfoKHR.Buffer getSwapchainCount(int[] dst) { gather(VkDeviceGroupPresentInfoKHR.SWAPCHAINCOUNT, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupPresentInfoKHR.Buffer getSwapchainCount(IntBuffer dst) { gather(VkDeviceGroupPresentInfoKHR.SWAPCHAINCOUNT, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupPresentInfoKHR.Buffer getMode(int[] dst) { gather(VkDeviceGroupPresentInfoKHR.MODE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupPresentInfoKHR.Buffer getMode(IntBuffer dst) { gather(VkDeviceGroupPresentInfoKHR.MODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupPresentInfoKHR.Buffer putSType(int[] src) { scatter(VkDeviceGroupPresentInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupPresentInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupPresentInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code mode} field of the structs between the current position and limit. */
+        public VkDeviceGroupPresentInfoKHR.Buffer putMode(int[] src) { scatter(VkDeviceGroupPresentInfoKHR.MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mode} field of the structs between the current position and limit. */
+        public VkDeviceGroupPresentInfoKHR.Buffer putMode(IntBuffer src) { scatter(VkDeviceGroupPresentInfoKHR.MODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
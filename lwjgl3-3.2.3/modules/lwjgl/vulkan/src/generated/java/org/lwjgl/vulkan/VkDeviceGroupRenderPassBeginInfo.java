@@ -272,6 +272,24 @@ public class VkDeviceGroupRenderPassBeginInfo extends Struct implements NativeRe
         return wrap(VkDeviceGroupRenderPassBeginInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupRenderPassBeginInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupRenderPassBeginInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupRenderPassBeginInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupRenderPassBeginInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupRenderPassBeginInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupRenderPassBeginInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupRenderPassBeginInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -310,6 +328,26 @@ public class VkDeviceGroupRenderPassBeginInfo extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupRenderPassBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupRenderPassBeginInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupRenderPassBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupRenderPassBeginInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -421,6 +459,28 @@ public class VkDeviceGroupRenderPassBeginInfo extends Struct implements NativeRe
         /** Sets the address of the specified {@link VkRect2D.Buffer} to the {@code pDeviceRenderAreas} field. */
         public VkDeviceGroupRenderPassBeginInfo.Buffer pDeviceRenderAreas(@Nullable @NativeType("VkRect2D const *") VkRect2D.Buffer value) { VkDeviceGroupRenderPassBeginInfo.npDeviceRenderAreas(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer getSType(int[] dst) { gather(VkDeviceGroupRenderPassBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupRenderPassBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer getDeviceMask(int[] dst) { gather(VkDeviceGroupRenderPassBeginInfo.DEVICEMASK, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer getDeviceMask(IntBuffer dst) { gather(VkDeviceGroupRenderPassBeginInfo.DEVICEMASK, dst); return this; }
+        /** Copies the {@code deviceRenderAreaCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer getDeviceRenderAreaCount(int[] dst) { gather(VkDeviceGroupRenderPassBeginInfo.DEVICERENDERAREACOUNT, dst); return this; }
+        /** Copies the {@code deviceRenderAreaCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer getDeviceRenderAreaCount(IntBuffer dst) { gather(VkDeviceGroupRenderPassBeginInfo.DEVICERENDERAREACOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer putSType(int[] src) { scatter(VkDeviceGroupRenderPassBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupRenderPassBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer putDeviceMask(int[] src) { scatter(VkDeviceGroupRenderPassBeginInfo.DEVICEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkDeviceGroupRenderPassBeginInfo.Buffer putDeviceMask(IntBuffer src) { scatter(VkDeviceGroupRenderPassBeginInfo.DEVICEMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
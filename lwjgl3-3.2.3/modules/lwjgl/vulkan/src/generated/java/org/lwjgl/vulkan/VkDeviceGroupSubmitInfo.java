@@ -297,6 +297,24 @@ public class VkDeviceGroupSubmitInfo extends Struct implements NativeResource {
         return wrap(VkDeviceGroupSubmitInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupSubmitInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupSubmitInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupSubmitInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupSubmitInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupSubmitInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupSubmitInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupSubmitInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -335,6 +353,26 @@ public class VkDeviceGroupSubmitInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupSubmitInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupSubmitInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupSubmitInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupSubmitInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -477,6 +515,28 @@ public class VkDeviceGroupSubmitInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pSignalSemaphoreDeviceIndices} field. */
         public VkDeviceGroupSubmitInfo.Buffer pSignalSemaphoreDeviceIndices(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkDeviceGroupSubmitInfo.npSignalSemaphoreDeviceIndices(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupSubmitInfo.Buffer getSType(int[] dst) { gather(VkDeviceGroupSubmitInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupSubmitInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupSubmitInfo.STYPE, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupSubmitInfo.Buffer getWaitSemaphoreCount(int[] dst) { gather(VkDeviceGroupSubmitInfo.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupSubmitInfo.Buffer getWaitSemaphoreCount(IntBuffer dst) { gather(VkDeviceGroupSubmitInfo.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code commandBufferCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupSubmitInfo.Buffer getCommandBufferCount(int[] dst) { gather(VkDeviceGroupSubmitInfo.COMMANDBUFFERCOUNT, dst); return this; }
+        /** Copies the {@code commandBufferCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupSubmitInfo.Buffer getCommandBufferCount(IntBuffer dst) { gather(VkDeviceGroupSubmitInfo.COMMANDBUFFERCOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupSubmitInfo.Buffer getSignalSemaphoreCount(int[] dst) { gather(VkDeviceGroupSubmitInfo.SIGNALSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupSubmitInfo.Buffer getSignalSemaphoreCount(IntBuffer dst) { gather(VkDeviceGroupSubmitInfo.SIGNALSEMAPHORECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupSubmitInfo.Buffer putSType(int[] src) { scatter(VkDeviceGroupSubmitInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupSubmitInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupSubmitInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkDeviceGroupSwapchainCreateInfoKHR extends Struct implements Nativ
         return wrap(VkDeviceGroupSwapchainCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceGroupSwapchainCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupSwapchainCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupSwapchainCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceGroupSwapchainCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceGroupSwapchainCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkDeviceGroupSwapchainCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceGroupSwapchainCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkDeviceGroupSwapchainCreateInfoKHR extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceGroupSwapchainCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupSwapchainCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceGroupSwapchainCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceGroupSwapchainCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkDeviceGroupSwapchainCreateInfoKHR extends Struct implements Nativ
         /** Sets the specified value to the {@code modes} field. */
         public VkDeviceGroupSwapchainCreateInfoKHR.Buffer modes(@NativeType("VkDeviceGroupPresentModeFlagsKHR") int value) { VkDeviceGroupSwapchainCreateInfoKHR.nmodes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkDeviceGroupSwapchainCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkDeviceGroupSwapchainCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code modes} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer getModes(int[] dst) { gather(VkDeviceGroupSwapchainCreateInfoKHR.MODES, dst); return this; }
+        /** Copies the {@code modes} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer getModes(IntBuffer dst) { gather(VkDeviceGroupSwapchainCreateInfoKHR.MODES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkDeviceGroupSwapchainCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkDeviceGroupSwapchainCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code modes} field of the structs between the current position and limit. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer putModes(int[] src) { scatter(VkDeviceGroupSwapchainCreateInfoKHR.MODES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code modes} field of the structs between the current position and limit. */
+        public VkDeviceGroupSwapchainCreateInfoKHR.Buffer putModes(IntBuffer src) { scatter(VkDeviceGroupSwapchainCreateInfoKHR.MODES, src); return this; }
+
     }
 
 }
\ No newline at end of file
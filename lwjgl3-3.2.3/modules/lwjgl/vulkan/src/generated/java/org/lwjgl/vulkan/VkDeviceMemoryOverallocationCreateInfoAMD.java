@@ -229,6 +229,24 @@ public class VkDeviceMemoryOverallocationCreateInfoAMD extends Struct implements
         return wrap(VkDeviceMemoryOverallocationCreateInfoAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceMemoryOverallocationCreateInfoAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceMemoryOverallocationCreateInfoAMD malloc(MemoryArena arena) {
+        return wrap(VkDeviceMemoryOverallocationCreateInfoAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceMemoryOverallocationCreateInfoAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceMemoryOverallocationCreateInfoAMD calloc(MemoryArena arena) {
+        return wrap(VkDeviceMemoryOverallocationCreateInfoAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceMemoryOverallocationCreateInfoAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkDeviceMemoryOverallocationCreateInfoAMD extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceMemoryOverallocationCreateInfoAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceMemoryOverallocationCreateInfoAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceMemoryOverallocationCreateInfoAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceMemoryOverallocationCreateInfoAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkDeviceMemoryOverallocationCreateInfoAMD extends Struct implements
         /** Sets the specified value to the {@code overallocationBehavior} field. */
         public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer overallocationBehavior(@NativeType("VkMemoryOverallocationBehaviorAMD") int value) { VkDeviceMemoryOverallocationCreateInfoAMD.noverallocationBehavior(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer getSType(int[] dst) { gather(VkDeviceMemoryOverallocationCreateInfoAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer getSType(IntBuffer dst) { gather(VkDeviceMemoryOverallocationCreateInfoAMD.STYPE, dst); return this; }
+        /** Copies the {@code overallocationBehavior} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer getOverallocationBehavior(int[] dst) { gather(VkDeviceMemoryOverallocationCreateInfoAMD.OVERALLOCATIONBEHAVIOR, dst); return this; }
+        /** Copies the {@code overallocationBehavior} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer getOverallocationBehavior(IntBuffer dst) { gather(VkDeviceMemoryOverallocationCreateInfoAMD.OVERALLOCATIONBEHAVIOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer putSType(int[] src) { scatter(VkDeviceMemoryOverallocationCreateInfoAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer putSType(IntBuffer src) { scatter(VkDeviceMemoryOverallocationCreateInfoAMD.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code overallocationBehavior} field of the structs between the current position and limit. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer putOverallocationBehavior(int[] src) { scatter(VkDeviceMemoryOverallocationCreateInfoAMD.OVERALLOCATIONBEHAVIOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code overallocationBehavior} field of the structs between the current position and limit. */
+        public VkDeviceMemoryOverallocationCreateInfoAMD.Buffer putOverallocationBehavior(IntBuffer src) { scatter(VkDeviceMemoryOverallocationCreateInfoAMD.OVERALLOCATIONBEHAVIOR, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -277,6 +277,24 @@ public class VkDeviceQueueCreateInfo extends Struct implements NativeResource {
         return wrap(VkDeviceQueueCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceQueueCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceQueueCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkDeviceQueueCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceQueueCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceQueueCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkDeviceQueueCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceQueueCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -315,6 +333,26 @@ public class VkDeviceQueueCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceQueueCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceQueueCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceQueueCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceQueueCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -432,6 +470,36 @@ public class VkDeviceQueueCreateInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link FloatBuffer} to the {@code pQueuePriorities} field. */
         public VkDeviceQueueCreateInfo.Buffer pQueuePriorities(@NativeType("float const *") FloatBuffer value) { VkDeviceQueueCreateInfo.npQueuePriorities(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueCreateInfo.Buffer getSType(int[] dst) { gather(VkDeviceQueueCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkDeviceQueueCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueCreateInfo.Buffer getFlags(int[] dst) { gather(VkDeviceQueueCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkDeviceQueueCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code queueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueCreateInfo.Buffer getQueueFamilyIndex(int[] dst) { gather(VkDeviceQueueCreateInfo.QUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code queueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueCreateInfo.Buffer getQueueFamilyIndex(IntBuffer dst) { gather(VkDeviceQueueCreateInfo.QUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code queueCount} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueCreateInfo.Buffer getQueueCount(int[] dst) { gather(VkDeviceQueueCreateInfo.QUEUECOUNT, dst); return this; }
+        /** Copies the {@code queueCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueCreateInfo.Buffer getQueueCount(IntBuffer dst) { gather(VkDeviceQueueCreateInfo.QUEUECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceQueueCreateInfo.Buffer putSType(int[] src) { scatter(VkDeviceQueueCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceQueueCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkDeviceQueueCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDeviceQueueCreateInfo.Buffer putFlags(int[] src) { scatter(VkDeviceQueueCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDeviceQueueCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkDeviceQueueCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code queueFamilyIndex} field of the structs between the current position and limit. */
+        public VkDeviceQueueCreateInfo.Buffer putQueueFamilyIndex(int[] src) { scatter(VkDeviceQueueCreateInfo.QUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queueFamilyIndex} field of the structs between the current position and limit. */
+        public VkDeviceQueueCreateInfo.Buffer putQueueFamilyIndex(IntBuffer src) { scatter(VkDeviceQueueCreateInfo.QUEUEFAMILYINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkDeviceQueueGlobalPriorityCreateInfoEXT extends Struct implements
         return wrap(VkDeviceQueueGlobalPriorityCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceQueueGlobalPriorityCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceQueueGlobalPriorityCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDeviceQueueGlobalPriorityCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceQueueGlobalPriorityCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceQueueGlobalPriorityCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDeviceQueueGlobalPriorityCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkDeviceQueueGlobalPriorityCreateInfoEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,24 @@ public class VkDeviceQueueGlobalPriorityCreateInfoEXT extends Struct implements
         /** Sets the specified value to the {@code globalPriority} field. */
         public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer globalPriority(@NativeType("VkQueueGlobalPriorityEXT") int value) { VkDeviceQueueGlobalPriorityCreateInfoEXT.nglobalPriority(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkDeviceQueueGlobalPriorityCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDeviceQueueGlobalPriorityCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code globalPriority} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer getGlobalPriority(int[] dst) { gather(VkDeviceQueueGlobalPriorityCreateInfoEXT.GLOBALPRIORITY, dst); return this; }
+        /** Copies the {@code globalPriority} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer getGlobalPriority(IntBuffer dst) { gather(VkDeviceQueueGlobalPriorityCreateInfoEXT.GLOBALPRIORITY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkDeviceQueueGlobalPriorityCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDeviceQueueGlobalPriorityCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code globalPriority} field of the structs between the current position and limit. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer putGlobalPriority(int[] src) { scatter(VkDeviceQueueGlobalPriorityCreateInfoEXT.GLOBALPRIORITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code globalPriority} field of the structs between the current position and limit. */
+        public VkDeviceQueueGlobalPriorityCreateInfoEXT.Buffer putGlobalPriority(IntBuffer src) { scatter(VkDeviceQueueGlobalPriorityCreateInfoEXT.GLOBALPRIORITY, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -270,6 +270,24 @@ public class VkDeviceQueueInfo2 extends Struct implements NativeResource {
         return wrap(VkDeviceQueueInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDeviceQueueInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceQueueInfo2 malloc(MemoryArena arena) {
+        return wrap(VkDeviceQueueInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDeviceQueueInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDeviceQueueInfo2 calloc(MemoryArena arena) {
+        return wrap(VkDeviceQueueInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDeviceQueueInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -308,6 +326,26 @@ public class VkDeviceQueueInfo2 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDeviceQueueInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceQueueInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDeviceQueueInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDeviceQueueInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -397,6 +435,40 @@ public class VkDeviceQueueInfo2 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code queueIndex} field. */
         public VkDeviceQueueInfo2.Buffer queueIndex(@NativeType("uint32_t") int value) { VkDeviceQueueInfo2.nqueueIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueInfo2.Buffer getSType(int[] dst) { gather(VkDeviceQueueInfo2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueInfo2.Buffer getSType(IntBuffer dst) { gather(VkDeviceQueueInfo2.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueInfo2.Buffer getFlags(int[] dst) { gather(VkDeviceQueueInfo2.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueInfo2.Buffer getFlags(IntBuffer dst) { gather(VkDeviceQueueInfo2.FLAGS, dst); return this; }
+        /** Copies the {@code queueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueInfo2.Buffer getQueueFamilyIndex(int[] dst) { gather(VkDeviceQueueInfo2.QUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code queueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueInfo2.Buffer getQueueFamilyIndex(IntBuffer dst) { gather(VkDeviceQueueInfo2.QUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code queueIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDeviceQueueInfo2.Buffer getQueueIndex(int[] dst) { gather(VkDeviceQueueInfo2.QUEUEINDEX, dst); return this; }
+        /** Copies the {@code queueIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDeviceQueueInfo2.Buffer getQueueIndex(IntBuffer dst) { gather(VkDeviceQueueInfo2.QUEUEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putSType(int[] src) { scatter(VkDeviceQueueInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putSType(IntBuffer src) { scatter(VkDeviceQueueInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putFlags(int[] src) { scatter(VkDeviceQueueInfo2.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putFlags(IntBuffer src) { scatter(VkDeviceQueueInfo2.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code queueFamilyIndex} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putQueueFamilyIndex(int[] src) { scatter(VkDeviceQueueInfo2.QUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queueFamilyIndex} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putQueueFamilyIndex(IntBuffer src) { scatter(VkDeviceQueueInfo2.QUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code queueIndex} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putQueueIndex(int[] src) { scatter(VkDeviceQueueInfo2.QUEUEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queueIndex} field of the structs between the current position and limit. */
+        public VkDeviceQueueInfo2.Buffer putQueueIndex(IntBuffer src) { scatter(VkDeviceQueueInfo2.QUEUEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
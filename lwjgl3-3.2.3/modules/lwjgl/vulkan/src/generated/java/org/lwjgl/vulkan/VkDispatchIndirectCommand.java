@@ -238,6 +238,24 @@ public class VkDispatchIndirectCommand extends Struct implements NativeResource
         return wrap(VkDispatchIndirectCommand.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDispatchIndirectCommand} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDispatchIndirectCommand malloc(MemoryArena arena) {
+        return wrap(VkDispatchIndirectCommand.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDispatchIndirectCommand} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDispatchIndirectCommand calloc(MemoryArena arena) {
+        return wrap(VkDispatchIndirectCommand.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDispatchIndirectCommand.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class VkDispatchIndirectCommand extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDispatchIndirectCommand.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDispatchIndirectCommand.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDispatchIndirectCommand.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDispatchIndirectCommand.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -347,6 +385,32 @@ public class VkDispatchIndirectCommand extends Struct implements NativeResource
         /** Sets the specified value to the {@code z} field. */
         public VkDispatchIndirectCommand.Buffer z(@NativeType("uint32_t") int value) { VkDispatchIndirectCommand.nz(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VkDispatchIndirectCommand.Buffer getX(int[] dst) { gather(VkDispatchIndirectCommand.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VkDispatchIndirectCommand.Buffer getX(IntBuffer dst) { gather(VkDispatchIndirectCommand.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VkDispatchIndirectCommand.Buffer getY(int[] dst) { gather(VkDispatchIndirectCommand.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VkDispatchIndirectCommand.Buffer getY(IntBuffer dst) { gather(VkDispatchIndirectCommand.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public VkDispatchIndirectCommand.Buffer getZ(int[] dst) { gather(VkDispatchIndirectCommand.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public VkDispatchIndirectCommand.Buffer getZ(IntBuffer dst) { gather(VkDispatchIndirectCommand.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VkDispatchIndirectCommand.Buffer putX(int[] src) { scatter(VkDispatchIndirectCommand.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VkDispatchIndirectCommand.Buffer putX(IntBuffer src) { scatter(VkDispatchIndirectCommand.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VkDispatchIndirectCommand.Buffer putY(int[] src) { scatter(VkDispatchIndirectCommand.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VkDispatchIndirectCommand.Buffer putY(IntBuffer src) { scatter(VkDispatchIndirectCommand.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public VkDispatchIndirectCommand.Buffer putZ(int[] src) { scatter(VkDispatchIndirectCommand.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public VkDispatchIndirectCommand.Buffer putZ(IntBuffer src) { scatter(VkDispatchIndirectCommand.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
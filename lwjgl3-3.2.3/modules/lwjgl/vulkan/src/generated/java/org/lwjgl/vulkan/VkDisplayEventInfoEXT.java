@@ -234,6 +234,24 @@ public class VkDisplayEventInfoEXT extends Struct implements NativeResource {
         return wrap(VkDisplayEventInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayEventInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayEventInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDisplayEventInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayEventInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayEventInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDisplayEventInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayEventInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkDisplayEventInfoEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayEventInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayEventInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayEventInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayEventInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkDisplayEventInfoEXT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code displayEvent} field. */
         public VkDisplayEventInfoEXT.Buffer displayEvent(@NativeType("VkDisplayEventTypeEXT") int value) { VkDisplayEventInfoEXT.ndisplayEvent(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayEventInfoEXT.Buffer getSType(int[] dst) { gather(VkDisplayEventInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayEventInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDisplayEventInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code displayEvent} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayEventInfoEXT.Buffer getDisplayEvent(int[] dst) { gather(VkDisplayEventInfoEXT.DISPLAYEVENT, dst); return this; }
+        /** Copies the {@code displayEvent} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayEventInfoEXT.Buffer getDisplayEvent(IntBuffer dst) { gather(VkDisplayEventInfoEXT.DISPLAYEVENT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayEventInfoEXT.Buffer putSType(int[] src) { scatter(VkDisplayEventInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayEventInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDisplayEventInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code displayEvent} field of the structs between the current position and limit. */
+        public VkDisplayEventInfoEXT.Buffer putDisplayEvent(int[] src) { scatter(VkDisplayEventInfoEXT.DISPLAYEVENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code displayEvent} field of the structs between the current position and limit. */
+        public VkDisplayEventInfoEXT.Buffer putDisplayEvent(IntBuffer src) { scatter(VkDisplayEventInfoEXT.DISPLAYEVENT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -248,6 +248,24 @@ public class VkDisplayModeCreateInfoKHR extends Struct implements NativeResource
         return wrap(VkDisplayModeCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayModeCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModeCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayModeCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayModeCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModeCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayModeCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayModeCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -286,6 +304,26 @@ public class VkDisplayModeCreateInfoKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayModeCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModeCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayModeCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModeCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -367,6 +405,24 @@ public class VkDisplayModeCreateInfoKHR extends Struct implements NativeResource
         /** Passes the {@code parameters} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkDisplayModeCreateInfoKHR.Buffer parameters(java.util.function.Consumer<VkDisplayModeParametersKHR> consumer) { consumer.accept(parameters()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayModeCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkDisplayModeCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayModeCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkDisplayModeCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayModeCreateInfoKHR.Buffer getFlags(int[] dst) { gather(VkDisplayModeCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayModeCreateInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkDisplayModeCreateInfoKHR.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayModeCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkDisplayModeCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayModeCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkDisplayModeCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDisplayModeCreateInfoKHR.Buffer putFlags(int[] src) { scatter(VkDisplayModeCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDisplayModeCreateInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkDisplayModeCreateInfoKHR.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
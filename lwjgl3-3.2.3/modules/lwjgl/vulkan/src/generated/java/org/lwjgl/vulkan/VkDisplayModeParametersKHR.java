@@ -230,6 +230,24 @@ public class VkDisplayModeParametersKHR extends Struct implements NativeResource
         return wrap(VkDisplayModeParametersKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayModeParametersKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModeParametersKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayModeParametersKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayModeParametersKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModeParametersKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayModeParametersKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayModeParametersKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkDisplayModeParametersKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayModeParametersKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModeParametersKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayModeParametersKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModeParametersKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #visibleRegion}. */
@@ -331,6 +369,16 @@ public class VkDisplayModeParametersKHR extends Struct implements NativeResource
         /** Sets the specified value to the {@code refreshRate} field. */
         public VkDisplayModeParametersKHR.Buffer refreshRate(@NativeType("uint32_t") int value) { VkDisplayModeParametersKHR.nrefreshRate(address(), value); return this; }
 
+        /** Copies the {@code refreshRate} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayModeParametersKHR.Buffer getRefreshRate(int[] dst) { gather(VkDisplayModeParametersKHR.REFRESHRATE, dst); return this; }
+        /** Copies the {@code refreshRate} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayModeParametersKHR.Buffer getRefreshRate(IntBuffer dst) { gather(VkDisplayModeParametersKHR.REFRESHRATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code refreshRate} field of the structs between the current position and limit. */
+        public VkDisplayModeParametersKHR.Buffer putRefreshRate(int[] src) { scatter(VkDisplayModeParametersKHR.REFRESHRATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code refreshRate} field of the structs between the current position and limit. */
+        public VkDisplayModeParametersKHR.Buffer putRefreshRate(IntBuffer src) { scatter(VkDisplayModeParametersKHR.REFRESHRATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
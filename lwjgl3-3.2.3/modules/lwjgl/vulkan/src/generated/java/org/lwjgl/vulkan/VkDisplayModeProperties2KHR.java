@@ -228,6 +228,24 @@ public class VkDisplayModeProperties2KHR extends Struct implements NativeResourc
         return wrap(VkDisplayModeProperties2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayModeProperties2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModeProperties2KHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayModeProperties2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayModeProperties2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModeProperties2KHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayModeProperties2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayModeProperties2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkDisplayModeProperties2KHR extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayModeProperties2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModeProperties2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayModeProperties2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModeProperties2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -332,6 +370,16 @@ public class VkDisplayModeProperties2KHR extends Struct implements NativeResourc
         /** Sets the specified value to the {@code pNext} field. */
         public VkDisplayModeProperties2KHR.Buffer pNext(@NativeType("void *") long value) { VkDisplayModeProperties2KHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayModeProperties2KHR.Buffer getSType(int[] dst) { gather(VkDisplayModeProperties2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayModeProperties2KHR.Buffer getSType(IntBuffer dst) { gather(VkDisplayModeProperties2KHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayModeProperties2KHR.Buffer putSType(int[] src) { scatter(VkDisplayModeProperties2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayModeProperties2KHR.Buffer putSType(IntBuffer src) { scatter(VkDisplayModeProperties2KHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -181,6 +181,24 @@ public class VkDisplayModePropertiesKHR extends Struct implements NativeResource
         return wrap(VkDisplayModePropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayModePropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModePropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayModePropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayModePropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayModePropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayModePropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayModePropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -219,6 +237,26 @@ public class VkDisplayModePropertiesKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayModePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModePropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayModePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayModePropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #displayMode}. */
@@ -270,6 +308,11 @@ public class VkDisplayModePropertiesKHR extends Struct implements NativeResource
         /** Returns a {@link VkDisplayModeParametersKHR} view of the {@code parameters} field. */
         public VkDisplayModeParametersKHR parameters() { return VkDisplayModePropertiesKHR.nparameters(address()); }
 
+        /** Copies the {@code displayMode} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayModePropertiesKHR.Buffer getDisplayMode(long[] dst) { gather(VkDisplayModePropertiesKHR.DISPLAYMODE, dst); return this; }
+        /** Copies the {@code displayMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayModePropertiesKHR.Buffer getDisplayMode(LongBuffer dst) { gather(VkDisplayModePropertiesKHR.DISPLAYMODE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,24 @@ public class VkDisplayNativeHdrSurfaceCapabilitiesAMD extends Struct implements
         return wrap(VkDisplayNativeHdrSurfaceCapabilitiesAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayNativeHdrSurfaceCapabilitiesAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayNativeHdrSurfaceCapabilitiesAMD malloc(MemoryArena arena) {
+        return wrap(VkDisplayNativeHdrSurfaceCapabilitiesAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayNativeHdrSurfaceCapabilitiesAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayNativeHdrSurfaceCapabilitiesAMD calloc(MemoryArena arena) {
+        return wrap(VkDisplayNativeHdrSurfaceCapabilitiesAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkDisplayNativeHdrSurfaceCapabilitiesAMD extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -329,6 +367,16 @@ public class VkDisplayNativeHdrSurfaceCapabilitiesAMD extends Struct implements
         /** Sets the specified value to the {@code pNext} field. */
         public VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer pNext(@NativeType("void *") long value) { VkDisplayNativeHdrSurfaceCapabilitiesAMD.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer getSType(int[] dst) { gather(VkDisplayNativeHdrSurfaceCapabilitiesAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer getSType(IntBuffer dst) { gather(VkDisplayNativeHdrSurfaceCapabilitiesAMD.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer putSType(int[] src) { scatter(VkDisplayNativeHdrSurfaceCapabilitiesAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayNativeHdrSurfaceCapabilitiesAMD.Buffer putSType(IntBuffer src) { scatter(VkDisplayNativeHdrSurfaceCapabilitiesAMD.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -244,6 +244,24 @@ public class VkDisplayPlaneCapabilitiesKHR extends Struct implements NativeResou
         return wrap(VkDisplayPlaneCapabilitiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayPlaneCapabilitiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPlaneCapabilitiesKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayPlaneCapabilitiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayPlaneCapabilitiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPlaneCapabilitiesKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayPlaneCapabilitiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayPlaneCapabilitiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -282,6 +300,26 @@ public class VkDisplayPlaneCapabilitiesKHR extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayPlaneCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPlaneCapabilitiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayPlaneCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPlaneCapabilitiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #supportedAlpha}. */
@@ -361,6 +399,11 @@ public class VkDisplayPlaneCapabilitiesKHR extends Struct implements NativeResou
         /** Returns a {@link VkExtent2D} view of the {@code maxDstExtent} field. */
         public VkExtent2D maxDstExtent() { return VkDisplayPlaneCapabilitiesKHR.nmaxDstExtent(address()); }
 
+        /** Copies the {@code supportedAlpha} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPlaneCapabilitiesKHR.Buffer getSupportedAlpha(int[] dst) { gather(VkDisplayPlaneCapabilitiesKHR.SUPPORTEDALPHA, dst); return this; }
+        /** Copies the {@code supportedAlpha} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPlaneCapabilitiesKHR.Buffer getSupportedAlpha(IntBuffer dst) { gather(VkDisplayPlaneCapabilitiesKHR.SUPPORTEDALPHA, dst); return this; }
+
     }
 
 }
\ No newline at end of file
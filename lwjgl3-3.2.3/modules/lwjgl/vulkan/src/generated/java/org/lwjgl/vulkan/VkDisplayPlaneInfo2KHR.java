@@ -264,6 +264,24 @@ public class VkDisplayPlaneInfo2KHR extends Struct implements NativeResource {
         return wrap(VkDisplayPlaneInfo2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayPlaneInfo2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPlaneInfo2KHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayPlaneInfo2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayPlaneInfo2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPlaneInfo2KHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayPlaneInfo2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayPlaneInfo2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class VkDisplayPlaneInfo2KHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayPlaneInfo2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPlaneInfo2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayPlaneInfo2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPlaneInfo2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -382,6 +420,32 @@ public class VkDisplayPlaneInfo2KHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code planeIndex} field. */
         public VkDisplayPlaneInfo2KHR.Buffer planeIndex(@NativeType("uint32_t") int value) { VkDisplayPlaneInfo2KHR.nplaneIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPlaneInfo2KHR.Buffer getSType(int[] dst) { gather(VkDisplayPlaneInfo2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPlaneInfo2KHR.Buffer getSType(IntBuffer dst) { gather(VkDisplayPlaneInfo2KHR.STYPE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPlaneInfo2KHR.Buffer getMode(long[] dst) { gather(VkDisplayPlaneInfo2KHR.MODE, dst); return this; }
+        /** Copies the {@code mode} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPlaneInfo2KHR.Buffer getMode(LongBuffer dst) { gather(VkDisplayPlaneInfo2KHR.MODE, dst); return this; }
+        /** Copies the {@code planeIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPlaneInfo2KHR.Buffer getPlaneIndex(int[] dst) { gather(VkDisplayPlaneInfo2KHR.PLANEINDEX, dst); return this; }
+        /** Copies the {@code planeIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPlaneInfo2KHR.Buffer getPlaneIndex(IntBuffer dst) { gather(VkDisplayPlaneInfo2KHR.PLANEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayPlaneInfo2KHR.Buffer putSType(int[] src) { scatter(VkDisplayPlaneInfo2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayPlaneInfo2KHR.Buffer putSType(IntBuffer src) { scatter(VkDisplayPlaneInfo2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code mode} field of the structs between the current position and limit. */
+        public VkDisplayPlaneInfo2KHR.Buffer putMode(long[] src) { scatter(VkDisplayPlaneInfo2KHR.MODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mode} field of the structs between the current position and limit. */
+        public VkDisplayPlaneInfo2KHR.Buffer putMode(LongBuffer src) { scatter(VkDisplayPlaneInfo2KHR.MODE, src); return this; }
+        /** Copies the values in the specified array to the {@code planeIndex} field of the structs between the current position and limit. */
+        public VkDisplayPlaneInfo2KHR.Buffer putPlaneIndex(int[] src) { scatter(VkDisplayPlaneInfo2KHR.PLANEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code planeIndex} field of the structs between the current position and limit. */
+        public VkDisplayPlaneInfo2KHR.Buffer putPlaneIndex(IntBuffer src) { scatter(VkDisplayPlaneInfo2KHR.PLANEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
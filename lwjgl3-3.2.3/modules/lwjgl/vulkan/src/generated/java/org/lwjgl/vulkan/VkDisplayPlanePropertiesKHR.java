@@ -182,6 +182,24 @@ public class VkDisplayPlanePropertiesKHR extends Struct implements NativeResourc
         return wrap(VkDisplayPlanePropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayPlanePropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPlanePropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayPlanePropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayPlanePropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPlanePropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayPlanePropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayPlanePropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -220,6 +238,26 @@ public class VkDisplayPlanePropertiesKHR extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayPlanePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPlanePropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayPlanePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPlanePropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #currentDisplay}. */
@@ -272,6 +310,15 @@ public class VkDisplayPlanePropertiesKHR extends Struct implements NativeResourc
         @NativeType("uint32_t")
         public int currentStackIndex() { return VkDisplayPlanePropertiesKHR.ncurrentStackIndex(address()); }
 
+        /** Copies the {@code currentDisplay} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPlanePropertiesKHR.Buffer getCurrentDisplay(long[] dst) { gather(VkDisplayPlanePropertiesKHR.CURRENTDISPLAY, dst); return this; }
+        /** Copies the {@code currentDisplay} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPlanePropertiesKHR.Buffer getCurrentDisplay(LongBuffer dst) { gather(VkDisplayPlanePropertiesKHR.CURRENTDISPLAY, dst); return this; }
+        /** Copies the {@code currentStackIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPlanePropertiesKHR.Buffer getCurrentStackIndex(int[] dst) { gather(VkDisplayPlanePropertiesKHR.CURRENTSTACKINDEX, dst); return this; }
+        /** Copies the {@code currentStackIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPlanePropertiesKHR.Buffer getCurrentStackIndex(IntBuffer dst) { gather(VkDisplayPlanePropertiesKHR.CURRENTSTACKINDEX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkDisplayPowerInfoEXT extends Struct implements NativeResource {
         return wrap(VkDisplayPowerInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayPowerInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPowerInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkDisplayPowerInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayPowerInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPowerInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkDisplayPowerInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayPowerInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkDisplayPowerInfoEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayPowerInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPowerInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayPowerInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPowerInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkDisplayPowerInfoEXT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code powerState} field. */
         public VkDisplayPowerInfoEXT.Buffer powerState(@NativeType("VkDisplayPowerStateEXT") int value) { VkDisplayPowerInfoEXT.npowerState(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPowerInfoEXT.Buffer getSType(int[] dst) { gather(VkDisplayPowerInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPowerInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkDisplayPowerInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code powerState} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPowerInfoEXT.Buffer getPowerState(int[] dst) { gather(VkDisplayPowerInfoEXT.POWERSTATE, dst); return this; }
+        /** Copies the {@code powerState} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPowerInfoEXT.Buffer getPowerState(IntBuffer dst) { gather(VkDisplayPowerInfoEXT.POWERSTATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayPowerInfoEXT.Buffer putSType(int[] src) { scatter(VkDisplayPowerInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplayPowerInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkDisplayPowerInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code powerState} field of the structs between the current position and limit. */
+        public VkDisplayPowerInfoEXT.Buffer putPowerState(int[] src) { scatter(VkDisplayPowerInfoEXT.POWERSTATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code powerState} field of the structs between the current position and limit. */
+        public VkDisplayPowerInfoEXT.Buffer putPowerState(IntBuffer src) { scatter(VkDisplayPowerInfoEXT.POWERSTATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
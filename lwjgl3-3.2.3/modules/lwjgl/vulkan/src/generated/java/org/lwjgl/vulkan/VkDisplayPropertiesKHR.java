@@ -233,6 +233,24 @@ public class VkDisplayPropertiesKHR extends Struct implements NativeResource {
         return wrap(VkDisplayPropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplayPropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplayPropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplayPropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplayPropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplayPropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplayPropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkDisplayPropertiesKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplayPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplayPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplayPropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #display}. */
@@ -351,6 +389,15 @@ public class VkDisplayPropertiesKHR extends Struct implements NativeResource {
         @NativeType("VkBool32")
         public boolean persistentContent() { return VkDisplayPropertiesKHR.npersistentContent(address()) != 0; }
 
+        /** Copies the {@code display} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPropertiesKHR.Buffer getDisplay(long[] dst) { gather(VkDisplayPropertiesKHR.DISPLAY, dst); return this; }
+        /** Copies the {@code display} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPropertiesKHR.Buffer getDisplay(LongBuffer dst) { gather(VkDisplayPropertiesKHR.DISPLAY, dst); return this; }
+        /** Copies the {@code supportedTransforms} field of the structs between the current position and limit to the specified array. */
+        public VkDisplayPropertiesKHR.Buffer getSupportedTransforms(int[] dst) { gather(VkDisplayPropertiesKHR.SUPPORTEDTRANSFORMS, dst); return this; }
+        /** Copies the {@code supportedTransforms} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplayPropertiesKHR.Buffer getSupportedTransforms(IntBuffer dst) { gather(VkDisplayPropertiesKHR.SUPPORTEDTRANSFORMS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
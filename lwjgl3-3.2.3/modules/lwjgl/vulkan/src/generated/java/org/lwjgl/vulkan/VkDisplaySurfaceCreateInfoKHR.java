@@ -338,6 +338,24 @@ public class VkDisplaySurfaceCreateInfoKHR extends Struct implements NativeResou
         return wrap(VkDisplaySurfaceCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDisplaySurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplaySurfaceCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkDisplaySurfaceCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDisplaySurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDisplaySurfaceCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkDisplaySurfaceCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDisplaySurfaceCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -376,6 +394,26 @@ public class VkDisplaySurfaceCreateInfoKHR extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDisplaySurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplaySurfaceCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDisplaySurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDisplaySurfaceCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -510,6 +548,72 @@ public class VkDisplaySurfaceCreateInfoKHR extends Struct implements NativeResou
         /** Passes the {@code imageExtent} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkDisplaySurfaceCreateInfoKHR.Buffer imageExtent(java.util.function.Consumer<VkExtent2D> consumer) { consumer.accept(imageExtent()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getFlags(int[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code displayMode} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getDisplayMode(long[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.DISPLAYMODE, dst); return this; }
+        /** Copies the {@code displayMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getDisplayMode(LongBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.DISPLAYMODE, dst); return this; }
+        /** Copies the {@code planeIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getPlaneIndex(int[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.PLANEINDEX, dst); return this; }
+        /** Copies the {@code planeIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getPlaneIndex(IntBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.PLANEINDEX, dst); return this; }
+        /** Copies the {@code planeStackIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getPlaneStackIndex(int[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.PLANESTACKINDEX, dst); return this; }
+        /** Copies the {@code planeStackIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getPlaneStackIndex(IntBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.PLANESTACKINDEX, dst); return this; }
+        /** Copies the {@code transform} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getTransform(int[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.TRANSFORM, dst); return this; }
+        /** Copies the {@code transform} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getTransform(IntBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.TRANSFORM, dst); return this; }
+        /** Copies the {@code globalAlpha} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getGlobalAlpha(float[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.GLOBALALPHA, dst); return this; }
+        /** Copies the {@code globalAlpha} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getGlobalAlpha(FloatBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.GLOBALALPHA, dst); return this; }
+        /** Copies the {@code alphaMode} field of the structs between the current position and limit to the specified array. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getAlphaMode(int[] dst) { gather(VkDisplaySurfaceCreateInfoKHR.ALPHAMODE, dst); return this; }
+        /** Copies the {@code alphaMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer getAlphaMode(IntBuffer dst) { gather(VkDisplaySurfaceCreateInfoKHR.ALPHAMODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putFlags(int[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code displayMode} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putDisplayMode(long[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.DISPLAYMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code displayMode} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putDisplayMode(LongBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.DISPLAYMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code planeIndex} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putPlaneIndex(int[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.PLANEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code planeIndex} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putPlaneIndex(IntBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.PLANEINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code planeStackIndex} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putPlaneStackIndex(int[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.PLANESTACKINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code planeStackIndex} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putPlaneStackIndex(IntBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.PLANESTACKINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code transform} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putTransform(int[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.TRANSFORM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code transform} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putTransform(IntBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.TRANSFORM, src); return this; }
+        /** Copies the values in the specified array to the {@code globalAlpha} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putGlobalAlpha(float[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.GLOBALALPHA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code globalAlpha} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putGlobalAlpha(FloatBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.GLOBALALPHA, src); return this; }
+        /** Copies the values in the specified array to the {@code alphaMode} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putAlphaMode(int[] src) { scatter(VkDisplaySurfaceCreateInfoKHR.ALPHAMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code alphaMode} field of the structs between the current position and limit. */
+        public VkDisplaySurfaceCreateInfoKHR.Buffer putAlphaMode(IntBuffer src) { scatter(VkDisplaySurfaceCreateInfoKHR.ALPHAMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
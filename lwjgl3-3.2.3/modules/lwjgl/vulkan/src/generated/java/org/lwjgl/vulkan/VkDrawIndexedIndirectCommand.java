@@ -262,6 +262,24 @@ public class VkDrawIndexedIndirectCommand extends Struct implements NativeResour
         return wrap(VkDrawIndexedIndirectCommand.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDrawIndexedIndirectCommand} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrawIndexedIndirectCommand malloc(MemoryArena arena) {
+        return wrap(VkDrawIndexedIndirectCommand.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDrawIndexedIndirectCommand} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrawIndexedIndirectCommand calloc(MemoryArena arena) {
+        return wrap(VkDrawIndexedIndirectCommand.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDrawIndexedIndirectCommand.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -300,6 +318,26 @@ public class VkDrawIndexedIndirectCommand extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDrawIndexedIndirectCommand.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrawIndexedIndirectCommand.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDrawIndexedIndirectCommand.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrawIndexedIndirectCommand.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #indexCount}. */
@@ -389,6 +427,48 @@ public class VkDrawIndexedIndirectCommand extends Struct implements NativeResour
         /** Sets the specified value to the {@code firstInstance} field. */
         public VkDrawIndexedIndirectCommand.Buffer firstInstance(@NativeType("uint32_t") int value) { VkDrawIndexedIndirectCommand.nfirstInstance(address(), value); return this; }
 
+        /** Copies the {@code indexCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndexedIndirectCommand.Buffer getIndexCount(int[] dst) { gather(VkDrawIndexedIndirectCommand.INDEXCOUNT, dst); return this; }
+        /** Copies the {@code indexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndexedIndirectCommand.Buffer getIndexCount(IntBuffer dst) { gather(VkDrawIndexedIndirectCommand.INDEXCOUNT, dst); return this; }
+        /** Copies the {@code instanceCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndexedIndirectCommand.Buffer getInstanceCount(int[] dst) { gather(VkDrawIndexedIndirectCommand.INSTANCECOUNT, dst); return this; }
+        /** Copies the {@code instanceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndexedIndirectCommand.Buffer getInstanceCount(IntBuffer dst) { gather(VkDrawIndexedIndirectCommand.INSTANCECOUNT, dst); return this; }
+        /** Copies the {@code firstIndex} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndexedIndirectCommand.Buffer getFirstIndex(int[] dst) { gather(VkDrawIndexedIndirectCommand.FIRSTINDEX, dst); return this; }
+        /** Copies the {@code firstIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndexedIndirectCommand.Buffer getFirstIndex(IntBuffer dst) { gather(VkDrawIndexedIndirectCommand.FIRSTINDEX, dst); return this; }
+        /** Copies the {@code vertexOffset} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndexedIndirectCommand.Buffer getVertexOffset(int[] dst) { gather(VkDrawIndexedIndirectCommand.VERTEXOFFSET, dst); return this; }
+        /** Copies the {@code vertexOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndexedIndirectCommand.Buffer getVertexOffset(IntBuffer dst) { gather(VkDrawIndexedIndirectCommand.VERTEXOFFSET, dst); return this; }
+        /** Copies the {@code firstInstance} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndexedIndirectCommand.Buffer getFirstInstance(int[] dst) { gather(VkDrawIndexedIndirectCommand.FIRSTINSTANCE, dst); return this; }
+        /** Copies the {@code firstInstance} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndexedIndirectCommand.Buffer getFirstInstance(IntBuffer dst) { gather(VkDrawIndexedIndirectCommand.FIRSTINSTANCE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code indexCount} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putIndexCount(int[] src) { scatter(VkDrawIndexedIndirectCommand.INDEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indexCount} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putIndexCount(IntBuffer src) { scatter(VkDrawIndexedIndirectCommand.INDEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code instanceCount} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putInstanceCount(int[] src) { scatter(VkDrawIndexedIndirectCommand.INSTANCECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code instanceCount} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putInstanceCount(IntBuffer src) { scatter(VkDrawIndexedIndirectCommand.INSTANCECOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code firstIndex} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putFirstIndex(int[] src) { scatter(VkDrawIndexedIndirectCommand.FIRSTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstIndex} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putFirstIndex(IntBuffer src) { scatter(VkDrawIndexedIndirectCommand.FIRSTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code vertexOffset} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putVertexOffset(int[] src) { scatter(VkDrawIndexedIndirectCommand.VERTEXOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexOffset} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putVertexOffset(IntBuffer src) { scatter(VkDrawIndexedIndirectCommand.VERTEXOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code firstInstance} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putFirstInstance(int[] src) { scatter(VkDrawIndexedIndirectCommand.FIRSTINSTANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstInstance} field of the structs between the current position and limit. */
+        public VkDrawIndexedIndirectCommand.Buffer putFirstInstance(IntBuffer src) { scatter(VkDrawIndexedIndirectCommand.FIRSTINSTANCE, src); return this; }
+
     }
 
 }
\ No newline at end of file
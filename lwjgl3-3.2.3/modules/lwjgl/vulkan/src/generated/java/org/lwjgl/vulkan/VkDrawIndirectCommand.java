@@ -249,6 +249,24 @@ public class VkDrawIndirectCommand extends Struct implements NativeResource {
         return wrap(VkDrawIndirectCommand.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDrawIndirectCommand} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrawIndirectCommand malloc(MemoryArena arena) {
+        return wrap(VkDrawIndirectCommand.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDrawIndirectCommand} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrawIndirectCommand calloc(MemoryArena arena) {
+        return wrap(VkDrawIndirectCommand.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDrawIndirectCommand.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkDrawIndirectCommand extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDrawIndirectCommand.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrawIndirectCommand.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDrawIndirectCommand.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrawIndirectCommand.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #vertexCount}. */
@@ -367,6 +405,40 @@ public class VkDrawIndirectCommand extends Struct implements NativeResource {
         /** Sets the specified value to the {@code firstInstance} field. */
         public VkDrawIndirectCommand.Buffer firstInstance(@NativeType("uint32_t") int value) { VkDrawIndirectCommand.nfirstInstance(address(), value); return this; }
 
+        /** Copies the {@code vertexCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndirectCommand.Buffer getVertexCount(int[] dst) { gather(VkDrawIndirectCommand.VERTEXCOUNT, dst); return this; }
+        /** Copies the {@code vertexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndirectCommand.Buffer getVertexCount(IntBuffer dst) { gather(VkDrawIndirectCommand.VERTEXCOUNT, dst); return this; }
+        /** Copies the {@code instanceCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndirectCommand.Buffer getInstanceCount(int[] dst) { gather(VkDrawIndirectCommand.INSTANCECOUNT, dst); return this; }
+        /** Copies the {@code instanceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndirectCommand.Buffer getInstanceCount(IntBuffer dst) { gather(VkDrawIndirectCommand.INSTANCECOUNT, dst); return this; }
+        /** Copies the {@code firstVertex} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndirectCommand.Buffer getFirstVertex(int[] dst) { gather(VkDrawIndirectCommand.FIRSTVERTEX, dst); return this; }
+        /** Copies the {@code firstVertex} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndirectCommand.Buffer getFirstVertex(IntBuffer dst) { gather(VkDrawIndirectCommand.FIRSTVERTEX, dst); return this; }
+        /** Copies the {@code firstInstance} field of the structs between the current position and limit to the specified array. */
+        public VkDrawIndirectCommand.Buffer getFirstInstance(int[] dst) { gather(VkDrawIndirectCommand.FIRSTINSTANCE, dst); return this; }
+        /** Copies the {@code firstInstance} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawIndirectCommand.Buffer getFirstInstance(IntBuffer dst) { gather(VkDrawIndirectCommand.FIRSTINSTANCE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code vertexCount} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putVertexCount(int[] src) { scatter(VkDrawIndirectCommand.VERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexCount} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putVertexCount(IntBuffer src) { scatter(VkDrawIndirectCommand.VERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code instanceCount} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putInstanceCount(int[] src) { scatter(VkDrawIndirectCommand.INSTANCECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code instanceCount} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putInstanceCount(IntBuffer src) { scatter(VkDrawIndirectCommand.INSTANCECOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code firstVertex} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putFirstVertex(int[] src) { scatter(VkDrawIndirectCommand.FIRSTVERTEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstVertex} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putFirstVertex(IntBuffer src) { scatter(VkDrawIndirectCommand.FIRSTVERTEX, src); return this; }
+        /** Copies the values in the specified array to the {@code firstInstance} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putFirstInstance(int[] src) { scatter(VkDrawIndirectCommand.FIRSTINSTANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstInstance} field of the structs between the current position and limit. */
+        public VkDrawIndirectCommand.Buffer putFirstInstance(IntBuffer src) { scatter(VkDrawIndirectCommand.FIRSTINSTANCE, src); return this; }
+
     }
 
 }
\ No newline at end of file
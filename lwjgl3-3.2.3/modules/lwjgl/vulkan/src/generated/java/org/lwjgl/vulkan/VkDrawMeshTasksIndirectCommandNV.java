@@ -224,6 +224,24 @@ public class VkDrawMeshTasksIndirectCommandNV extends Struct implements NativeRe
         return wrap(VkDrawMeshTasksIndirectCommandNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDrawMeshTasksIndirectCommandNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrawMeshTasksIndirectCommandNV malloc(MemoryArena arena) {
+        return wrap(VkDrawMeshTasksIndirectCommandNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDrawMeshTasksIndirectCommandNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrawMeshTasksIndirectCommandNV calloc(MemoryArena arena) {
+        return wrap(VkDrawMeshTasksIndirectCommandNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDrawMeshTasksIndirectCommandNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkDrawMeshTasksIndirectCommandNV extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDrawMeshTasksIndirectCommandNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrawMeshTasksIndirectCommandNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDrawMeshTasksIndirectCommandNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrawMeshTasksIndirectCommandNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #taskCount}. */
@@ -324,6 +362,24 @@ public class VkDrawMeshTasksIndirectCommandNV extends Struct implements NativeRe
         /** Sets the specified value to the {@code firstTask} field. */
         public VkDrawMeshTasksIndirectCommandNV.Buffer firstTask(@NativeType("uint32_t") int value) { VkDrawMeshTasksIndirectCommandNV.nfirstTask(address(), value); return this; }
 
+        /** Copies the {@code taskCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer getTaskCount(int[] dst) { gather(VkDrawMeshTasksIndirectCommandNV.TASKCOUNT, dst); return this; }
+        /** Copies the {@code taskCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer getTaskCount(IntBuffer dst) { gather(VkDrawMeshTasksIndirectCommandNV.TASKCOUNT, dst); return this; }
+        /** Copies the {@code firstTask} field of the structs between the current position and limit to the specified array. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer getFirstTask(int[] dst) { gather(VkDrawMeshTasksIndirectCommandNV.FIRSTTASK, dst); return this; }
+        /** Copies the {@code firstTask} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer getFirstTask(IntBuffer dst) { gather(VkDrawMeshTasksIndirectCommandNV.FIRSTTASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code taskCount} field of the structs between the current position and limit. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer putTaskCount(int[] src) { scatter(VkDrawMeshTasksIndirectCommandNV.TASKCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code taskCount} field of the structs between the current position and limit. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer putTaskCount(IntBuffer src) { scatter(VkDrawMeshTasksIndirectCommandNV.TASKCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code firstTask} field of the structs between the current position and limit. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer putFirstTask(int[] src) { scatter(VkDrawMeshTasksIndirectCommandNV.FIRSTTASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code firstTask} field of the structs between the current position and limit. */
+        public VkDrawMeshTasksIndirectCommandNV.Buffer putFirstTask(IntBuffer src) { scatter(VkDrawMeshTasksIndirectCommandNV.FIRSTTASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -193,6 +193,19 @@ public class VkDrmFormatModifierPropertiesEXT extends Struct {
         @NativeType("VkFormatFeatureFlags")
         public int drmFormatModifierTilingFeatures() { return VkDrmFormatModifierPropertiesEXT.ndrmFormatModifierTilingFeatures(address()); }
 
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified array. */
+        public VkDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifier(long[] dst) { gather(VkDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifier(LongBuffer dst) { gather(VkDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code drmFormatModifierPlaneCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifierPlaneCount(int[] dst) { gather(VkDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIERPLANECOUNT, dst); return this; }
+        /** Copies the {@code drmFormatModifierPlaneCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifierPlaneCount(IntBuffer dst) { gather(VkDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIERPLANECOUNT, dst); return this; }
+        /** Copies the {@code drmFormatModifierTilingFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifierTilingFeatures(int[] dst) { gather(VkDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIERTILINGFEATURES, dst); return this; }
+        /** Copies the {@code drmFormatModifierTilingFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifierTilingFeatures(IntBuffer dst) { gather(VkDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIERTILINGFEATURES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
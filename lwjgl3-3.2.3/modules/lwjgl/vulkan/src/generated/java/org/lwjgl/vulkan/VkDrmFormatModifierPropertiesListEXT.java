@@ -243,6 +243,24 @@ public class VkDrmFormatModifierPropertiesListEXT extends Struct implements Nati
         return wrap(VkDrmFormatModifierPropertiesListEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkDrmFormatModifierPropertiesListEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrmFormatModifierPropertiesListEXT malloc(MemoryArena arena) {
+        return wrap(VkDrmFormatModifierPropertiesListEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkDrmFormatModifierPropertiesListEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkDrmFormatModifierPropertiesListEXT calloc(MemoryArena arena) {
+        return wrap(VkDrmFormatModifierPropertiesListEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkDrmFormatModifierPropertiesListEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class VkDrmFormatModifierPropertiesListEXT extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkDrmFormatModifierPropertiesListEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrmFormatModifierPropertiesListEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkDrmFormatModifierPropertiesListEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkDrmFormatModifierPropertiesListEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -354,6 +392,20 @@ public class VkDrmFormatModifierPropertiesListEXT extends Struct implements Nati
         /** Sets the specified value to the {@code pNext} field. */
         public VkDrmFormatModifierPropertiesListEXT.Buffer pNext(@NativeType("void *") long value) { VkDrmFormatModifierPropertiesListEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkDrmFormatModifierPropertiesListEXT.Buffer getSType(int[] dst) { gather(VkDrmFormatModifierPropertiesListEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrmFormatModifierPropertiesListEXT.Buffer getSType(IntBuffer dst) { gather(VkDrmFormatModifierPropertiesListEXT.STYPE, dst); return this; }
+        /** Copies the {@code drmFormatModifierCount} field of the structs between the current position and limit to the specified array. */
+        public VkDrmFormatModifierPropertiesListEXT.Buffer getDrmFormatModifierCount(int[] dst) { gather(VkDrmFormatModifierPropertiesListEXT.DRMFORMATMODIFIERCOUNT, dst); return this; }
+        /** Copies the {@code drmFormatModifierCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkDrmFormatModifierPropertiesListEXT.Buffer getDrmFormatModifierCount(IntBuffer dst) { gather(VkDrmFormatModifierPropertiesListEXT.DRMFORMATMODIFIERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkDrmFormatModifierPropertiesListEXT.Buffer putSType(int[] src) { scatter(VkDrmFormatModifierPropertiesListEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkDrmFormatModifierPropertiesListEXT.Buffer putSType(IntBuffer src) { scatter(VkDrmFormatModifierPropertiesListEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
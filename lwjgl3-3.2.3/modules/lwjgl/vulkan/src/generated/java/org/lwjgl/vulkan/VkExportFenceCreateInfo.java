@@ -235,6 +235,24 @@ public class VkExportFenceCreateInfo extends Struct implements NativeResource {
         return wrap(VkExportFenceCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportFenceCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportFenceCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkExportFenceCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportFenceCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportFenceCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkExportFenceCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportFenceCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkExportFenceCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportFenceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportFenceCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportFenceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportFenceCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -344,6 +382,24 @@ public class VkExportFenceCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExportFenceCreateInfo.Buffer handleTypes(@NativeType("VkExternalFenceHandleTypeFlags") int value) { VkExportFenceCreateInfo.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportFenceCreateInfo.Buffer getSType(int[] dst) { gather(VkExportFenceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportFenceCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkExportFenceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExportFenceCreateInfo.Buffer getHandleTypes(int[] dst) { gather(VkExportFenceCreateInfo.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportFenceCreateInfo.Buffer getHandleTypes(IntBuffer dst) { gather(VkExportFenceCreateInfo.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportFenceCreateInfo.Buffer putSType(int[] src) { scatter(VkExportFenceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportFenceCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkExportFenceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportFenceCreateInfo.Buffer putHandleTypes(int[] src) { scatter(VkExportFenceCreateInfo.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportFenceCreateInfo.Buffer putHandleTypes(IntBuffer src) { scatter(VkExportFenceCreateInfo.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -281,6 +281,24 @@ public class VkExportFenceWin32HandleInfoKHR extends Struct implements NativeRes
         return wrap(VkExportFenceWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportFenceWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportFenceWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkExportFenceWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportFenceWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportFenceWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkExportFenceWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportFenceWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -319,6 +337,26 @@ public class VkExportFenceWin32HandleInfoKHR extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportFenceWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportFenceWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportFenceWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportFenceWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -442,6 +480,24 @@ public class VkExportFenceWin32HandleInfoKHR extends Struct implements NativeRes
         /** Sets the address of the specified encoded string to the {@code name} field. */
         public VkExportFenceWin32HandleInfoKHR.Buffer name(@NativeType("LPCWSTR") ByteBuffer value) { VkExportFenceWin32HandleInfoKHR.nname(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkExportFenceWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkExportFenceWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code dwAccess} field of the structs between the current position and limit to the specified array. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer getDwAccess(int[] dst) { gather(VkExportFenceWin32HandleInfoKHR.DWACCESS, dst); return this; }
+        /** Copies the {@code dwAccess} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer getDwAccess(IntBuffer dst) { gather(VkExportFenceWin32HandleInfoKHR.DWACCESS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkExportFenceWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkExportFenceWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dwAccess} field of the structs between the current position and limit. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer putDwAccess(int[] src) { scatter(VkExportFenceWin32HandleInfoKHR.DWACCESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwAccess} field of the structs between the current position and limit. */
+        public VkExportFenceWin32HandleInfoKHR.Buffer putDwAccess(IntBuffer src) { scatter(VkExportFenceWin32HandleInfoKHR.DWACCESS, src); return this; }
+
     }
 
 }
\ No newline at end of file
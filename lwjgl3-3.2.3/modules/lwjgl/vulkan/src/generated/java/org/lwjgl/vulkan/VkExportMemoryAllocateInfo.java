@@ -235,6 +235,24 @@ public class VkExportMemoryAllocateInfo extends Struct implements NativeResource
         return wrap(VkExportMemoryAllocateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportMemoryAllocateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfo malloc(MemoryArena arena) {
+        return wrap(VkExportMemoryAllocateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportMemoryAllocateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfo calloc(MemoryArena arena) {
+        return wrap(VkExportMemoryAllocateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportMemoryAllocateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkExportMemoryAllocateInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportMemoryAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportMemoryAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -344,6 +382,24 @@ public class VkExportMemoryAllocateInfo extends Struct implements NativeResource
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExportMemoryAllocateInfo.Buffer handleTypes(@NativeType("VkExternalMemoryHandleTypeFlags") int value) { VkExportMemoryAllocateInfo.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportMemoryAllocateInfo.Buffer getSType(int[] dst) { gather(VkExportMemoryAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportMemoryAllocateInfo.Buffer getSType(IntBuffer dst) { gather(VkExportMemoryAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExportMemoryAllocateInfo.Buffer getHandleTypes(int[] dst) { gather(VkExportMemoryAllocateInfo.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportMemoryAllocateInfo.Buffer getHandleTypes(IntBuffer dst) { gather(VkExportMemoryAllocateInfo.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfo.Buffer putSType(int[] src) { scatter(VkExportMemoryAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfo.Buffer putSType(IntBuffer src) { scatter(VkExportMemoryAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfo.Buffer putHandleTypes(int[] src) { scatter(VkExportMemoryAllocateInfo.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfo.Buffer putHandleTypes(IntBuffer src) { scatter(VkExportMemoryAllocateInfo.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
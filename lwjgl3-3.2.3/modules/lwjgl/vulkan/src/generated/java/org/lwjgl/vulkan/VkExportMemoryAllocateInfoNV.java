@@ -229,6 +229,24 @@ public class VkExportMemoryAllocateInfoNV extends Struct implements NativeResour
         return wrap(VkExportMemoryAllocateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportMemoryAllocateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkExportMemoryAllocateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportMemoryAllocateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkExportMemoryAllocateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportMemoryAllocateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkExportMemoryAllocateInfoNV extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportMemoryAllocateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportMemoryAllocateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportMemoryAllocateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkExportMemoryAllocateInfoNV extends Struct implements NativeResour
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExportMemoryAllocateInfoNV.Buffer handleTypes(@NativeType("VkExternalMemoryHandleTypeFlagsNV") int value) { VkExportMemoryAllocateInfoNV.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportMemoryAllocateInfoNV.Buffer getSType(int[] dst) { gather(VkExportMemoryAllocateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportMemoryAllocateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkExportMemoryAllocateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExportMemoryAllocateInfoNV.Buffer getHandleTypes(int[] dst) { gather(VkExportMemoryAllocateInfoNV.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportMemoryAllocateInfoNV.Buffer getHandleTypes(IntBuffer dst) { gather(VkExportMemoryAllocateInfoNV.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfoNV.Buffer putSType(int[] src) { scatter(VkExportMemoryAllocateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkExportMemoryAllocateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfoNV.Buffer putHandleTypes(int[] src) { scatter(VkExportMemoryAllocateInfoNV.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportMemoryAllocateInfoNV.Buffer putHandleTypes(IntBuffer src) { scatter(VkExportMemoryAllocateInfoNV.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class VkExportMemoryWin32HandleInfoNV extends Struct implements NativeRes
         return wrap(VkExportMemoryWin32HandleInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportMemoryWin32HandleInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportMemoryWin32HandleInfoNV malloc(MemoryArena arena) {
+        return wrap(VkExportMemoryWin32HandleInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportMemoryWin32HandleInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportMemoryWin32HandleInfoNV calloc(MemoryArena arena) {
+        return wrap(VkExportMemoryWin32HandleInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportMemoryWin32HandleInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkExportMemoryWin32HandleInfoNV extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportMemoryWin32HandleInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportMemoryWin32HandleInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportMemoryWin32HandleInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportMemoryWin32HandleInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -395,6 +433,24 @@ public class VkExportMemoryWin32HandleInfoNV extends Struct implements NativeRes
         /** Sets the specified value to the {@code dwAccess} field. */
         public VkExportMemoryWin32HandleInfoNV.Buffer dwAccess(@NativeType("DWORD") int value) { VkExportMemoryWin32HandleInfoNV.ndwAccess(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer getSType(int[] dst) { gather(VkExportMemoryWin32HandleInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer getSType(IntBuffer dst) { gather(VkExportMemoryWin32HandleInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code dwAccess} field of the structs between the current position and limit to the specified array. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer getDwAccess(int[] dst) { gather(VkExportMemoryWin32HandleInfoNV.DWACCESS, dst); return this; }
+        /** Copies the {@code dwAccess} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer getDwAccess(IntBuffer dst) { gather(VkExportMemoryWin32HandleInfoNV.DWACCESS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer putSType(int[] src) { scatter(VkExportMemoryWin32HandleInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer putSType(IntBuffer src) { scatter(VkExportMemoryWin32HandleInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dwAccess} field of the structs between the current position and limit. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer putDwAccess(int[] src) { scatter(VkExportMemoryWin32HandleInfoNV.DWACCESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwAccess} field of the structs between the current position and limit. */
+        public VkExportMemoryWin32HandleInfoNV.Buffer putDwAccess(IntBuffer src) { scatter(VkExportMemoryWin32HandleInfoNV.DWACCESS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -235,6 +235,24 @@ public class VkExportSemaphoreCreateInfo extends Struct implements NativeResourc
         return wrap(VkExportSemaphoreCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportSemaphoreCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportSemaphoreCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkExportSemaphoreCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportSemaphoreCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportSemaphoreCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkExportSemaphoreCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportSemaphoreCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkExportSemaphoreCreateInfo extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportSemaphoreCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportSemaphoreCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportSemaphoreCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportSemaphoreCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -344,6 +382,24 @@ public class VkExportSemaphoreCreateInfo extends Struct implements NativeResourc
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExportSemaphoreCreateInfo.Buffer handleTypes(@NativeType("VkExternalSemaphoreHandleTypeFlags") int value) { VkExportSemaphoreCreateInfo.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportSemaphoreCreateInfo.Buffer getSType(int[] dst) { gather(VkExportSemaphoreCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportSemaphoreCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkExportSemaphoreCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExportSemaphoreCreateInfo.Buffer getHandleTypes(int[] dst) { gather(VkExportSemaphoreCreateInfo.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportSemaphoreCreateInfo.Buffer getHandleTypes(IntBuffer dst) { gather(VkExportSemaphoreCreateInfo.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportSemaphoreCreateInfo.Buffer putSType(int[] src) { scatter(VkExportSemaphoreCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportSemaphoreCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkExportSemaphoreCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportSemaphoreCreateInfo.Buffer putHandleTypes(int[] src) { scatter(VkExportSemaphoreCreateInfo.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExportSemaphoreCreateInfo.Buffer putHandleTypes(IntBuffer src) { scatter(VkExportSemaphoreCreateInfo.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
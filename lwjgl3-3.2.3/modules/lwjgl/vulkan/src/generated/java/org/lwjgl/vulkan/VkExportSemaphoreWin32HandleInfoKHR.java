@@ -289,6 +289,24 @@ public class VkExportSemaphoreWin32HandleInfoKHR extends Struct implements Nativ
         return wrap(VkExportSemaphoreWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExportSemaphoreWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportSemaphoreWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkExportSemaphoreWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExportSemaphoreWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExportSemaphoreWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkExportSemaphoreWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExportSemaphoreWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class VkExportSemaphoreWin32HandleInfoKHR extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExportSemaphoreWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportSemaphoreWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExportSemaphoreWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExportSemaphoreWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -450,6 +488,24 @@ public class VkExportSemaphoreWin32HandleInfoKHR extends Struct implements Nativ
         /** Sets the address of the specified encoded string to the {@code name} field. */
         public VkExportSemaphoreWin32HandleInfoKHR.Buffer name(@NativeType("LPCWSTR") ByteBuffer value) { VkExportSemaphoreWin32HandleInfoKHR.nname(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkExportSemaphoreWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkExportSemaphoreWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code dwAccess} field of the structs between the current position and limit to the specified array. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer getDwAccess(int[] dst) { gather(VkExportSemaphoreWin32HandleInfoKHR.DWACCESS, dst); return this; }
+        /** Copies the {@code dwAccess} field of the structs between the current position and limit to the specified buffer. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer getDwAccess(IntBuffer dst) { gather(VkExportSemaphoreWin32HandleInfoKHR.DWACCESS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkExportSemaphoreWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkExportSemaphoreWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dwAccess} field of the structs between the current position and limit. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer putDwAccess(int[] src) { scatter(VkExportSemaphoreWin32HandleInfoKHR.DWACCESS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dwAccess} field of the structs between the current position and limit. */
+        public VkExportSemaphoreWin32HandleInfoKHR.Buffer putDwAccess(IntBuffer src) { scatter(VkExportSemaphoreWin32HandleInfoKHR.DWACCESS, src); return this; }
+
     }
 
 }
\ No newline at end of file
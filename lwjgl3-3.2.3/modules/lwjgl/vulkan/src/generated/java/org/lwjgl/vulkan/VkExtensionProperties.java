@@ -187,6 +187,24 @@ public class VkExtensionProperties extends Struct implements NativeResource {
         return wrap(VkExtensionProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExtensionProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExtensionProperties malloc(MemoryArena arena) {
+        return wrap(VkExtensionProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExtensionProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExtensionProperties calloc(MemoryArena arena) {
+        return wrap(VkExtensionProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExtensionProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -225,6 +243,26 @@ public class VkExtensionProperties extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExtensionProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExtensionProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExtensionProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExtensionProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #extensionName}. */
@@ -282,6 +320,11 @@ public class VkExtensionProperties extends Struct implements NativeResource {
         @NativeType("uint32_t")
         public int specVersion() { return VkExtensionProperties.nspecVersion(address()); }
 
+        /** Copies the {@code specVersion} field of the structs between the current position and limit to the specified array. */
+        public VkExtensionProperties.Buffer getSpecVersion(int[] dst) { gather(VkExtensionProperties.SPECVERSION, dst); return this; }
+        /** Copies the {@code specVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkExtensionProperties.Buffer getSpecVersion(IntBuffer dst) { gather(VkExtensionProperties.SPECVERSION, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -210,6 +210,24 @@ public class VkExtent2D extends Struct implements NativeResource {
         return wrap(VkExtent2D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExtent2D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExtent2D malloc(MemoryArena arena) {
+        return wrap(VkExtent2D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExtent2D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExtent2D calloc(MemoryArena arena) {
+        return wrap(VkExtent2D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExtent2D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class VkExtent2D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExtent2D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExtent2D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExtent2D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExtent2D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #width}. */
@@ -310,6 +348,24 @@ public class VkExtent2D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code height} field. */
         public VkExtent2D.Buffer height(@NativeType("uint32_t") int value) { VkExtent2D.nheight(address(), value); return this; }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public VkExtent2D.Buffer getWidth(int[] dst) { gather(VkExtent2D.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public VkExtent2D.Buffer getWidth(IntBuffer dst) { gather(VkExtent2D.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public VkExtent2D.Buffer getHeight(int[] dst) { gather(VkExtent2D.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public VkExtent2D.Buffer getHeight(IntBuffer dst) { gather(VkExtent2D.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public VkExtent2D.Buffer putWidth(int[] src) { scatter(VkExtent2D.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public VkExtent2D.Buffer putWidth(IntBuffer src) { scatter(VkExtent2D.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public VkExtent2D.Buffer putHeight(int[] src) { scatter(VkExtent2D.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public VkExtent2D.Buffer putHeight(IntBuffer src) { scatter(VkExtent2D.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
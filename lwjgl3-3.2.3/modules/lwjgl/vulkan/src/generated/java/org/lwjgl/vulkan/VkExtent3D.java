@@ -222,6 +222,24 @@ public class VkExtent3D extends Struct implements NativeResource {
         return wrap(VkExtent3D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExtent3D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExtent3D malloc(MemoryArena arena) {
+        return wrap(VkExtent3D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExtent3D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExtent3D calloc(MemoryArena arena) {
+        return wrap(VkExtent3D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExtent3D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class VkExtent3D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExtent3D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExtent3D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExtent3D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExtent3D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #width}. */
@@ -331,6 +369,32 @@ public class VkExtent3D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code depth} field. */
         public VkExtent3D.Buffer depth(@NativeType("uint32_t") int value) { VkExtent3D.ndepth(address(), value); return this; }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public VkExtent3D.Buffer getWidth(int[] dst) { gather(VkExtent3D.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public VkExtent3D.Buffer getWidth(IntBuffer dst) { gather(VkExtent3D.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public VkExtent3D.Buffer getHeight(int[] dst) { gather(VkExtent3D.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public VkExtent3D.Buffer getHeight(IntBuffer dst) { gather(VkExtent3D.HEIGHT, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified array. */
+        public VkExtent3D.Buffer getDepth(int[] dst) { gather(VkExtent3D.DEPTH, dst); return this; }
+        /** Copies the {@code depth} field of the structs between the current position and limit to the specified buffer. */
+        public VkExtent3D.Buffer getDepth(IntBuffer dst) { gather(VkExtent3D.DEPTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public VkExtent3D.Buffer putWidth(int[] src) { scatter(VkExtent3D.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public VkExtent3D.Buffer putWidth(IntBuffer src) { scatter(VkExtent3D.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public VkExtent3D.Buffer putHeight(int[] src) { scatter(VkExtent3D.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public VkExtent3D.Buffer putHeight(IntBuffer src) { scatter(VkExtent3D.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code depth} field of the structs between the current position and limit. */
+        public VkExtent3D.Buffer putDepth(int[] src) { scatter(VkExtent3D.DEPTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depth} field of the structs between the current position and limit. */
+        public VkExtent3D.Buffer putDepth(IntBuffer src) { scatter(VkExtent3D.DEPTH, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -247,6 +247,24 @@ public class VkExternalFenceProperties extends Struct implements NativeResource
         return wrap(VkExternalFenceProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalFenceProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalFenceProperties malloc(MemoryArena arena) {
+        return wrap(VkExternalFenceProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalFenceProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalFenceProperties calloc(MemoryArena arena) {
+        return wrap(VkExternalFenceProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalFenceProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkExternalFenceProperties extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalFenceProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalFenceProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalFenceProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalFenceProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -362,6 +400,28 @@ public class VkExternalFenceProperties extends Struct implements NativeResource
         /** Sets the specified value to the {@code pNext} field. */
         public VkExternalFenceProperties.Buffer pNext(@NativeType("void *") long value) { VkExternalFenceProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExternalFenceProperties.Buffer getSType(int[] dst) { gather(VkExternalFenceProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalFenceProperties.Buffer getSType(IntBuffer dst) { gather(VkExternalFenceProperties.STYPE, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalFenceProperties.Buffer getExportFromImportedHandleTypes(int[] dst) { gather(VkExternalFenceProperties.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalFenceProperties.Buffer getExportFromImportedHandleTypes(IntBuffer dst) { gather(VkExternalFenceProperties.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalFenceProperties.Buffer getCompatibleHandleTypes(int[] dst) { gather(VkExternalFenceProperties.COMPATIBLEHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalFenceProperties.Buffer getCompatibleHandleTypes(IntBuffer dst) { gather(VkExternalFenceProperties.COMPATIBLEHANDLETYPES, dst); return this; }
+        /** Copies the {@code externalFenceFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkExternalFenceProperties.Buffer getExternalFenceFeatures(int[] dst) { gather(VkExternalFenceProperties.EXTERNALFENCEFEATURES, dst); return this; }
+        /** Copies the {@code externalFenceFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalFenceProperties.Buffer getExternalFenceFeatures(IntBuffer dst) { gather(VkExternalFenceProperties.EXTERNALFENCEFEATURES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalFenceProperties.Buffer putSType(int[] src) { scatter(VkExternalFenceProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalFenceProperties.Buffer putSType(IntBuffer src) { scatter(VkExternalFenceProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
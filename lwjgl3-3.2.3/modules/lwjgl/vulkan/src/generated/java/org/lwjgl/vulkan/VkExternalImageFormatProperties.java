@@ -227,6 +227,24 @@ public class VkExternalImageFormatProperties extends Struct implements NativeRes
         return wrap(VkExternalImageFormatProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalImageFormatProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalImageFormatProperties malloc(MemoryArena arena) {
+        return wrap(VkExternalImageFormatProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalImageFormatProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalImageFormatProperties calloc(MemoryArena arena) {
+        return wrap(VkExternalImageFormatProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalImageFormatProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -265,6 +283,26 @@ public class VkExternalImageFormatProperties extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalImageFormatProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalImageFormatProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -331,6 +369,16 @@ public class VkExternalImageFormatProperties extends Struct implements NativeRes
         /** Sets the specified value to the {@code pNext} field. */
         public VkExternalImageFormatProperties.Buffer pNext(@NativeType("void *") long value) { VkExternalImageFormatProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExternalImageFormatProperties.Buffer getSType(int[] dst) { gather(VkExternalImageFormatProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalImageFormatProperties.Buffer getSType(IntBuffer dst) { gather(VkExternalImageFormatProperties.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalImageFormatProperties.Buffer putSType(int[] src) { scatter(VkExternalImageFormatProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalImageFormatProperties.Buffer putSType(IntBuffer src) { scatter(VkExternalImageFormatProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -197,6 +197,24 @@ public class VkExternalImageFormatPropertiesNV extends Struct implements NativeR
         return wrap(VkExternalImageFormatPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalImageFormatPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalImageFormatPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkExternalImageFormatPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalImageFormatPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalImageFormatPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkExternalImageFormatPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalImageFormatPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -235,6 +253,26 @@ public class VkExternalImageFormatPropertiesNV extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalImageFormatPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalImageFormatPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalImageFormatPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalImageFormatPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #imageFormatProperties}. */
@@ -296,6 +334,19 @@ public class VkExternalImageFormatPropertiesNV extends Struct implements NativeR
         @NativeType("VkExternalMemoryHandleTypeFlagsNV")
         public int compatibleHandleTypes() { return VkExternalImageFormatPropertiesNV.ncompatibleHandleTypes(address()); }
 
+        /** Copies the {@code externalMemoryFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkExternalImageFormatPropertiesNV.Buffer getExternalMemoryFeatures(int[] dst) { gather(VkExternalImageFormatPropertiesNV.EXTERNALMEMORYFEATURES, dst); return this; }
+        /** Copies the {@code externalMemoryFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalImageFormatPropertiesNV.Buffer getExternalMemoryFeatures(IntBuffer dst) { gather(VkExternalImageFormatPropertiesNV.EXTERNALMEMORYFEATURES, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalImageFormatPropertiesNV.Buffer getExportFromImportedHandleTypes(int[] dst) { gather(VkExternalImageFormatPropertiesNV.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalImageFormatPropertiesNV.Buffer getExportFromImportedHandleTypes(IntBuffer dst) { gather(VkExternalImageFormatPropertiesNV.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalImageFormatPropertiesNV.Buffer getCompatibleHandleTypes(int[] dst) { gather(VkExternalImageFormatPropertiesNV.COMPATIBLEHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalImageFormatPropertiesNV.Buffer getCompatibleHandleTypes(IntBuffer dst) { gather(VkExternalImageFormatPropertiesNV.COMPATIBLEHANDLETYPES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -229,6 +229,24 @@ public class VkExternalMemoryBufferCreateInfo extends Struct implements NativeRe
         return wrap(VkExternalMemoryBufferCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalMemoryBufferCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalMemoryBufferCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkExternalMemoryBufferCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalMemoryBufferCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalMemoryBufferCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkExternalMemoryBufferCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalMemoryBufferCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkExternalMemoryBufferCreateInfo extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalMemoryBufferCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalMemoryBufferCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalMemoryBufferCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalMemoryBufferCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkExternalMemoryBufferCreateInfo extends Struct implements NativeRe
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExternalMemoryBufferCreateInfo.Buffer handleTypes(@NativeType("VkExternalMemoryHandleTypeFlags") int value) { VkExternalMemoryBufferCreateInfo.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryBufferCreateInfo.Buffer getSType(int[] dst) { gather(VkExternalMemoryBufferCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryBufferCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkExternalMemoryBufferCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryBufferCreateInfo.Buffer getHandleTypes(int[] dst) { gather(VkExternalMemoryBufferCreateInfo.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryBufferCreateInfo.Buffer getHandleTypes(IntBuffer dst) { gather(VkExternalMemoryBufferCreateInfo.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalMemoryBufferCreateInfo.Buffer putSType(int[] src) { scatter(VkExternalMemoryBufferCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalMemoryBufferCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkExternalMemoryBufferCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExternalMemoryBufferCreateInfo.Buffer putHandleTypes(int[] src) { scatter(VkExternalMemoryBufferCreateInfo.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExternalMemoryBufferCreateInfo.Buffer putHandleTypes(IntBuffer src) { scatter(VkExternalMemoryBufferCreateInfo.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
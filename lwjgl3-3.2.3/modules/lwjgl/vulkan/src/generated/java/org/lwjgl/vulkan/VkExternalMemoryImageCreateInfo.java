@@ -230,6 +230,24 @@ public class VkExternalMemoryImageCreateInfo extends Struct implements NativeRes
         return wrap(VkExternalMemoryImageCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalMemoryImageCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkExternalMemoryImageCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalMemoryImageCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkExternalMemoryImageCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalMemoryImageCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkExternalMemoryImageCreateInfo extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalMemoryImageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalMemoryImageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,24 @@ public class VkExternalMemoryImageCreateInfo extends Struct implements NativeRes
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExternalMemoryImageCreateInfo.Buffer handleTypes(@NativeType("VkExternalMemoryHandleTypeFlags") int value) { VkExternalMemoryImageCreateInfo.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryImageCreateInfo.Buffer getSType(int[] dst) { gather(VkExternalMemoryImageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryImageCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkExternalMemoryImageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryImageCreateInfo.Buffer getHandleTypes(int[] dst) { gather(VkExternalMemoryImageCreateInfo.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryImageCreateInfo.Buffer getHandleTypes(IntBuffer dst) { gather(VkExternalMemoryImageCreateInfo.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfo.Buffer putSType(int[] src) { scatter(VkExternalMemoryImageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkExternalMemoryImageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfo.Buffer putHandleTypes(int[] src) { scatter(VkExternalMemoryImageCreateInfo.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfo.Buffer putHandleTypes(IntBuffer src) { scatter(VkExternalMemoryImageCreateInfo.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -229,6 +229,24 @@ public class VkExternalMemoryImageCreateInfoNV extends Struct implements NativeR
         return wrap(VkExternalMemoryImageCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalMemoryImageCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkExternalMemoryImageCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalMemoryImageCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkExternalMemoryImageCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalMemoryImageCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkExternalMemoryImageCreateInfoNV extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalMemoryImageCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalMemoryImageCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalMemoryImageCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkExternalMemoryImageCreateInfoNV extends Struct implements NativeR
         /** Sets the specified value to the {@code handleTypes} field. */
         public VkExternalMemoryImageCreateInfoNV.Buffer handleTypes(@NativeType("VkExternalMemoryHandleTypeFlagsNV") int value) { VkExternalMemoryImageCreateInfoNV.nhandleTypes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer getSType(int[] dst) { gather(VkExternalMemoryImageCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkExternalMemoryImageCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer getHandleTypes(int[] dst) { gather(VkExternalMemoryImageCreateInfoNV.HANDLETYPES, dst); return this; }
+        /** Copies the {@code handleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer getHandleTypes(IntBuffer dst) { gather(VkExternalMemoryImageCreateInfoNV.HANDLETYPES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer putSType(int[] src) { scatter(VkExternalMemoryImageCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkExternalMemoryImageCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer putHandleTypes(int[] src) { scatter(VkExternalMemoryImageCreateInfoNV.HANDLETYPES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleTypes} field of the structs between the current position and limit. */
+        public VkExternalMemoryImageCreateInfoNV.Buffer putHandleTypes(IntBuffer src) { scatter(VkExternalMemoryImageCreateInfoNV.HANDLETYPES, src); return this; }
+
     }
 
 }
\ No newline at end of file
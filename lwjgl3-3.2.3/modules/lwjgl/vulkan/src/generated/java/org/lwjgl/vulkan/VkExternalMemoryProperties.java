@@ -179,6 +179,19 @@ public class VkExternalMemoryProperties extends Struct {
         @NativeType("VkExternalMemoryHandleTypeFlags")
         public int compatibleHandleTypes() { return VkExternalMemoryProperties.ncompatibleHandleTypes(address()); }
 
+        /** Copies the {@code externalMemoryFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryProperties.Buffer getExternalMemoryFeatures(int[] dst) { gather(VkExternalMemoryProperties.EXTERNALMEMORYFEATURES, dst); return this; }
+        /** Copies the {@code externalMemoryFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryProperties.Buffer getExternalMemoryFeatures(IntBuffer dst) { gather(VkExternalMemoryProperties.EXTERNALMEMORYFEATURES, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryProperties.Buffer getExportFromImportedHandleTypes(int[] dst) { gather(VkExternalMemoryProperties.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryProperties.Buffer getExportFromImportedHandleTypes(IntBuffer dst) { gather(VkExternalMemoryProperties.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalMemoryProperties.Buffer getCompatibleHandleTypes(int[] dst) { gather(VkExternalMemoryProperties.COMPATIBLEHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalMemoryProperties.Buffer getCompatibleHandleTypes(IntBuffer dst) { gather(VkExternalMemoryProperties.COMPATIBLEHANDLETYPES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
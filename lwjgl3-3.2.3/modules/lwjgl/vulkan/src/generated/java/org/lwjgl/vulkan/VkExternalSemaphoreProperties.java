@@ -247,6 +247,24 @@ public class VkExternalSemaphoreProperties extends Struct implements NativeResou
         return wrap(VkExternalSemaphoreProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkExternalSemaphoreProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalSemaphoreProperties malloc(MemoryArena arena) {
+        return wrap(VkExternalSemaphoreProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkExternalSemaphoreProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkExternalSemaphoreProperties calloc(MemoryArena arena) {
+        return wrap(VkExternalSemaphoreProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkExternalSemaphoreProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkExternalSemaphoreProperties extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkExternalSemaphoreProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalSemaphoreProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkExternalSemaphoreProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkExternalSemaphoreProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -362,6 +400,28 @@ public class VkExternalSemaphoreProperties extends Struct implements NativeResou
         /** Sets the specified value to the {@code pNext} field. */
         public VkExternalSemaphoreProperties.Buffer pNext(@NativeType("void *") long value) { VkExternalSemaphoreProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkExternalSemaphoreProperties.Buffer getSType(int[] dst) { gather(VkExternalSemaphoreProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalSemaphoreProperties.Buffer getSType(IntBuffer dst) { gather(VkExternalSemaphoreProperties.STYPE, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalSemaphoreProperties.Buffer getExportFromImportedHandleTypes(int[] dst) { gather(VkExternalSemaphoreProperties.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code exportFromImportedHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalSemaphoreProperties.Buffer getExportFromImportedHandleTypes(IntBuffer dst) { gather(VkExternalSemaphoreProperties.EXPORTFROMIMPORTEDHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified array. */
+        public VkExternalSemaphoreProperties.Buffer getCompatibleHandleTypes(int[] dst) { gather(VkExternalSemaphoreProperties.COMPATIBLEHANDLETYPES, dst); return this; }
+        /** Copies the {@code compatibleHandleTypes} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalSemaphoreProperties.Buffer getCompatibleHandleTypes(IntBuffer dst) { gather(VkExternalSemaphoreProperties.COMPATIBLEHANDLETYPES, dst); return this; }
+        /** Copies the {@code externalSemaphoreFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkExternalSemaphoreProperties.Buffer getExternalSemaphoreFeatures(int[] dst) { gather(VkExternalSemaphoreProperties.EXTERNALSEMAPHOREFEATURES, dst); return this; }
+        /** Copies the {@code externalSemaphoreFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkExternalSemaphoreProperties.Buffer getExternalSemaphoreFeatures(IntBuffer dst) { gather(VkExternalSemaphoreProperties.EXTERNALSEMAPHOREFEATURES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalSemaphoreProperties.Buffer putSType(int[] src) { scatter(VkExternalSemaphoreProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkExternalSemaphoreProperties.Buffer putSType(IntBuffer src) { scatter(VkExternalSemaphoreProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
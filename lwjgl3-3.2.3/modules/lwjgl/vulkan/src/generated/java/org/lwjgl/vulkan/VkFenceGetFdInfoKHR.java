@@ -260,6 +260,24 @@ public class VkFenceGetFdInfoKHR extends Struct implements NativeResource {
         return wrap(VkFenceGetFdInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFenceGetFdInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFenceGetFdInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkFenceGetFdInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFenceGetFdInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFenceGetFdInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkFenceGetFdInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFenceGetFdInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -298,6 +316,26 @@ public class VkFenceGetFdInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFenceGetFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFenceGetFdInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFenceGetFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFenceGetFdInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -378,6 +416,32 @@ public class VkFenceGetFdInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code handleType} field. */
         public VkFenceGetFdInfoKHR.Buffer handleType(@NativeType("VkExternalFenceHandleTypeFlagBits") int value) { VkFenceGetFdInfoKHR.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFenceGetFdInfoKHR.Buffer getSType(int[] dst) { gather(VkFenceGetFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFenceGetFdInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkFenceGetFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified array. */
+        public VkFenceGetFdInfoKHR.Buffer getFence(long[] dst) { gather(VkFenceGetFdInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified buffer. */
+        public VkFenceGetFdInfoKHR.Buffer getFence(LongBuffer dst) { gather(VkFenceGetFdInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkFenceGetFdInfoKHR.Buffer getHandleType(int[] dst) { gather(VkFenceGetFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFenceGetFdInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkFenceGetFdInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFenceGetFdInfoKHR.Buffer putSType(int[] src) { scatter(VkFenceGetFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFenceGetFdInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkFenceGetFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fence} field of the structs between the current position and limit. */
+        public VkFenceGetFdInfoKHR.Buffer putFence(long[] src) { scatter(VkFenceGetFdInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fence} field of the structs between the current position and limit. */
+        public VkFenceGetFdInfoKHR.Buffer putFence(LongBuffer src) { scatter(VkFenceGetFdInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkFenceGetFdInfoKHR.Buffer putHandleType(int[] src) { scatter(VkFenceGetFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkFenceGetFdInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkFenceGetFdInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -261,6 +261,24 @@ public class VkFenceGetWin32HandleInfoKHR extends Struct implements NativeResour
         return wrap(VkFenceGetWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFenceGetWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFenceGetWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkFenceGetWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFenceGetWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFenceGetWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkFenceGetWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFenceGetWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkFenceGetWin32HandleInfoKHR extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFenceGetWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFenceGetWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFenceGetWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFenceGetWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -379,6 +417,32 @@ public class VkFenceGetWin32HandleInfoKHR extends Struct implements NativeResour
         /** Sets the specified value to the {@code handleType} field. */
         public VkFenceGetWin32HandleInfoKHR.Buffer handleType(@NativeType("VkExternalFenceHandleTypeFlagBits") int value) { VkFenceGetWin32HandleInfoKHR.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkFenceGetWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkFenceGetWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified array. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer getFence(long[] dst) { gather(VkFenceGetWin32HandleInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified buffer. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer getFence(LongBuffer dst) { gather(VkFenceGetWin32HandleInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer getHandleType(int[] dst) { gather(VkFenceGetWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkFenceGetWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkFenceGetWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkFenceGetWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fence} field of the structs between the current position and limit. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer putFence(long[] src) { scatter(VkFenceGetWin32HandleInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fence} field of the structs between the current position and limit. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer putFence(LongBuffer src) { scatter(VkFenceGetWin32HandleInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer putHandleType(int[] src) { scatter(VkFenceGetWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkFenceGetWin32HandleInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkFenceGetWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
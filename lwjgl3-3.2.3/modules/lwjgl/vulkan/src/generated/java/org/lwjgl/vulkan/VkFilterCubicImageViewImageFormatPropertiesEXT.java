@@ -238,6 +238,24 @@ public class VkFilterCubicImageViewImageFormatPropertiesEXT extends Struct imple
         return wrap(VkFilterCubicImageViewImageFormatPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFilterCubicImageViewImageFormatPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFilterCubicImageViewImageFormatPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkFilterCubicImageViewImageFormatPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFilterCubicImageViewImageFormatPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFilterCubicImageViewImageFormatPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkFilterCubicImageViewImageFormatPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class VkFilterCubicImageViewImageFormatPropertiesEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -348,6 +386,16 @@ public class VkFilterCubicImageViewImageFormatPropertiesEXT extends Struct imple
         /** Sets the specified value to the {@code pNext} field. */
         public VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkFilterCubicImageViewImageFormatPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer getSType(int[] dst) { gather(VkFilterCubicImageViewImageFormatPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkFilterCubicImageViewImageFormatPropertiesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer putSType(int[] src) { scatter(VkFilterCubicImageViewImageFormatPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFilterCubicImageViewImageFormatPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkFilterCubicImageViewImageFormatPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
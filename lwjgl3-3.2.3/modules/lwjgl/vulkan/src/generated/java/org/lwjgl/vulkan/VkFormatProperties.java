@@ -205,6 +205,24 @@ public class VkFormatProperties extends Struct implements NativeResource {
         return wrap(VkFormatProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFormatProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFormatProperties malloc(MemoryArena arena) {
+        return wrap(VkFormatProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFormatProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFormatProperties calloc(MemoryArena arena) {
+        return wrap(VkFormatProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFormatProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -243,6 +261,26 @@ public class VkFormatProperties extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFormatProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFormatProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #linearTilingFeatures}. */
@@ -300,6 +338,19 @@ public class VkFormatProperties extends Struct implements NativeResource {
         @NativeType("VkFormatFeatureFlags")
         public int bufferFeatures() { return VkFormatProperties.nbufferFeatures(address()); }
 
+        /** Copies the {@code linearTilingFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkFormatProperties.Buffer getLinearTilingFeatures(int[] dst) { gather(VkFormatProperties.LINEARTILINGFEATURES, dst); return this; }
+        /** Copies the {@code linearTilingFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkFormatProperties.Buffer getLinearTilingFeatures(IntBuffer dst) { gather(VkFormatProperties.LINEARTILINGFEATURES, dst); return this; }
+        /** Copies the {@code optimalTilingFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkFormatProperties.Buffer getOptimalTilingFeatures(int[] dst) { gather(VkFormatProperties.OPTIMALTILINGFEATURES, dst); return this; }
+        /** Copies the {@code optimalTilingFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkFormatProperties.Buffer getOptimalTilingFeatures(IntBuffer dst) { gather(VkFormatProperties.OPTIMALTILINGFEATURES, dst); return this; }
+        /** Copies the {@code bufferFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkFormatProperties.Buffer getBufferFeatures(int[] dst) { gather(VkFormatProperties.BUFFERFEATURES, dst); return this; }
+        /** Copies the {@code bufferFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkFormatProperties.Buffer getBufferFeatures(IntBuffer dst) { gather(VkFormatProperties.BUFFERFEATURES, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -310,6 +310,24 @@ public class VkFramebufferAttachmentImageInfoKHR extends Struct implements Nativ
         return wrap(VkFramebufferAttachmentImageInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFramebufferAttachmentImageInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentImageInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkFramebufferAttachmentImageInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFramebufferAttachmentImageInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentImageInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkFramebufferAttachmentImageInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFramebufferAttachmentImageInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -348,6 +366,26 @@ public class VkFramebufferAttachmentImageInfoKHR extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFramebufferAttachmentImageInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentImageInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFramebufferAttachmentImageInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentImageInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -495,6 +533,60 @@ public class VkFramebufferAttachmentImageInfoKHR extends Struct implements Nativ
         /** Sets the address of the specified {@link IntBuffer} to the {@code pViewFormats} field. */
         public VkFramebufferAttachmentImageInfoKHR.Buffer pViewFormats(@Nullable @NativeType("VkFormat const *") IntBuffer value) { VkFramebufferAttachmentImageInfoKHR.npViewFormats(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getSType(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getFlags(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getUsage(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getUsage(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.USAGE, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getWidth(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getWidth(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getHeight(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getHeight(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.HEIGHT, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getLayerCount(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.LAYERCOUNT, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getLayerCount(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.LAYERCOUNT, dst); return this; }
+        /** Copies the {@code viewFormatCount} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getViewFormatCount(int[] dst) { gather(VkFramebufferAttachmentImageInfoKHR.VIEWFORMATCOUNT, dst); return this; }
+        /** Copies the {@code viewFormatCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer getViewFormatCount(IntBuffer dst) { gather(VkFramebufferAttachmentImageInfoKHR.VIEWFORMATCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putSType(int[] src) { scatter(VkFramebufferAttachmentImageInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkFramebufferAttachmentImageInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putFlags(int[] src) { scatter(VkFramebufferAttachmentImageInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkFramebufferAttachmentImageInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putUsage(int[] src) { scatter(VkFramebufferAttachmentImageInfoKHR.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putUsage(IntBuffer src) { scatter(VkFramebufferAttachmentImageInfoKHR.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putWidth(int[] src) { scatter(VkFramebufferAttachmentImageInfoKHR.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putWidth(IntBuffer src) { scatter(VkFramebufferAttachmentImageInfoKHR.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putHeight(int[] src) { scatter(VkFramebufferAttachmentImageInfoKHR.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putHeight(IntBuffer src) { scatter(VkFramebufferAttachmentImageInfoKHR.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putLayerCount(int[] src) { scatter(VkFramebufferAttachmentImageInfoKHR.LAYERCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentImageInfoKHR.Buffer putLayerCount(IntBuffer src) { scatter(VkFramebufferAttachmentImageInfoKHR.LAYERCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -243,6 +243,24 @@ public class VkFramebufferAttachmentsCreateInfoKHR extends Struct implements Nat
         return wrap(VkFramebufferAttachmentsCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFramebufferAttachmentsCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentsCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkFramebufferAttachmentsCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFramebufferAttachmentsCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentsCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkFramebufferAttachmentsCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFramebufferAttachmentsCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class VkFramebufferAttachmentsCreateInfoKHR extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFramebufferAttachmentsCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentsCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFramebufferAttachmentsCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferAttachmentsCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -386,6 +424,20 @@ public class VkFramebufferAttachmentsCreateInfoKHR extends Struct implements Nat
         /** Sets the address of the specified {@link VkFramebufferAttachmentImageInfoKHR.Buffer} to the {@code pAttachmentImageInfos} field. */
         public VkFramebufferAttachmentsCreateInfoKHR.Buffer pAttachmentImageInfos(@Nullable @NativeType("VkFramebufferAttachmentImageInfoKHR const *") VkFramebufferAttachmentImageInfoKHR.Buffer value) { VkFramebufferAttachmentsCreateInfoKHR.npAttachmentImageInfos(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentsCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkFramebufferAttachmentsCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentsCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkFramebufferAttachmentsCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code attachmentImageInfoCount} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferAttachmentsCreateInfoKHR.Buffer getAttachmentImageInfoCount(int[] dst) { gather(VkFramebufferAttachmentsCreateInfoKHR.ATTACHMENTIMAGEINFOCOUNT, dst); return this; }
+        /** Copies the {@code attachmentImageInfoCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferAttachmentsCreateInfoKHR.Buffer getAttachmentImageInfoCount(IntBuffer dst) { gather(VkFramebufferAttachmentsCreateInfoKHR.ATTACHMENTIMAGEINFOCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentsCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkFramebufferAttachmentsCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferAttachmentsCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkFramebufferAttachmentsCreateInfoKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
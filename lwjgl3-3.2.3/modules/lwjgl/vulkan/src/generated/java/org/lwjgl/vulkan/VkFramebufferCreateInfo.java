@@ -365,6 +365,24 @@ public class VkFramebufferCreateInfo extends Struct implements NativeResource {
         return wrap(VkFramebufferCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFramebufferCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkFramebufferCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFramebufferCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkFramebufferCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFramebufferCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -403,6 +421,26 @@ public class VkFramebufferCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFramebufferCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFramebufferCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -550,6 +588,60 @@ public class VkFramebufferCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code layers} field. */
         public VkFramebufferCreateInfo.Buffer layers(@NativeType("uint32_t") int value) { VkFramebufferCreateInfo.nlayers(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getSType(int[] dst) { gather(VkFramebufferCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkFramebufferCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getFlags(int[] dst) { gather(VkFramebufferCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkFramebufferCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getRenderPass(long[] dst) { gather(VkFramebufferCreateInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getRenderPass(LongBuffer dst) { gather(VkFramebufferCreateInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getAttachmentCount(int[] dst) { gather(VkFramebufferCreateInfo.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getAttachmentCount(IntBuffer dst) { gather(VkFramebufferCreateInfo.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getWidth(int[] dst) { gather(VkFramebufferCreateInfo.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getWidth(IntBuffer dst) { gather(VkFramebufferCreateInfo.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getHeight(int[] dst) { gather(VkFramebufferCreateInfo.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getHeight(IntBuffer dst) { gather(VkFramebufferCreateInfo.HEIGHT, dst); return this; }
+        /** Copies the {@code layers} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferCreateInfo.Buffer getLayers(int[] dst) { gather(VkFramebufferCreateInfo.LAYERS, dst); return this; }
+        /** Copies the {@code layers} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferCreateInfo.Buffer getLayers(IntBuffer dst) { gather(VkFramebufferCreateInfo.LAYERS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putSType(int[] src) { scatter(VkFramebufferCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkFramebufferCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putFlags(int[] src) { scatter(VkFramebufferCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkFramebufferCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putRenderPass(long[] src) { scatter(VkFramebufferCreateInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putRenderPass(LongBuffer src) { scatter(VkFramebufferCreateInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putWidth(int[] src) { scatter(VkFramebufferCreateInfo.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putWidth(IntBuffer src) { scatter(VkFramebufferCreateInfo.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putHeight(int[] src) { scatter(VkFramebufferCreateInfo.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putHeight(IntBuffer src) { scatter(VkFramebufferCreateInfo.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code layers} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putLayers(int[] src) { scatter(VkFramebufferCreateInfo.LAYERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layers} field of the structs between the current position and limit. */
+        public VkFramebufferCreateInfo.Buffer putLayers(IntBuffer src) { scatter(VkFramebufferCreateInfo.LAYERS, src); return this; }
+
     }
 
 }
\ No newline at end of file
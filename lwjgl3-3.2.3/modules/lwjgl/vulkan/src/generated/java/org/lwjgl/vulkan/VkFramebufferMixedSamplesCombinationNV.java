@@ -253,6 +253,24 @@ public class VkFramebufferMixedSamplesCombinationNV extends Struct implements Na
         return wrap(VkFramebufferMixedSamplesCombinationNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkFramebufferMixedSamplesCombinationNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferMixedSamplesCombinationNV malloc(MemoryArena arena) {
+        return wrap(VkFramebufferMixedSamplesCombinationNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkFramebufferMixedSamplesCombinationNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkFramebufferMixedSamplesCombinationNV calloc(MemoryArena arena) {
+        return wrap(VkFramebufferMixedSamplesCombinationNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkFramebufferMixedSamplesCombinationNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkFramebufferMixedSamplesCombinationNV extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkFramebufferMixedSamplesCombinationNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferMixedSamplesCombinationNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkFramebufferMixedSamplesCombinationNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkFramebufferMixedSamplesCombinationNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -373,6 +411,32 @@ public class VkFramebufferMixedSamplesCombinationNV extends Struct implements Na
         /** Sets the specified value to the {@code pNext} field. */
         public VkFramebufferMixedSamplesCombinationNV.Buffer pNext(@NativeType("void *") long value) { VkFramebufferMixedSamplesCombinationNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getSType(int[] dst) { gather(VkFramebufferMixedSamplesCombinationNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getSType(IntBuffer dst) { gather(VkFramebufferMixedSamplesCombinationNV.STYPE, dst); return this; }
+        /** Copies the {@code coverageReductionMode} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getCoverageReductionMode(int[] dst) { gather(VkFramebufferMixedSamplesCombinationNV.COVERAGEREDUCTIONMODE, dst); return this; }
+        /** Copies the {@code coverageReductionMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getCoverageReductionMode(IntBuffer dst) { gather(VkFramebufferMixedSamplesCombinationNV.COVERAGEREDUCTIONMODE, dst); return this; }
+        /** Copies the {@code rasterizationSamples} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getRasterizationSamples(int[] dst) { gather(VkFramebufferMixedSamplesCombinationNV.RASTERIZATIONSAMPLES, dst); return this; }
+        /** Copies the {@code rasterizationSamples} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getRasterizationSamples(IntBuffer dst) { gather(VkFramebufferMixedSamplesCombinationNV.RASTERIZATIONSAMPLES, dst); return this; }
+        /** Copies the {@code depthStencilSamples} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getDepthStencilSamples(int[] dst) { gather(VkFramebufferMixedSamplesCombinationNV.DEPTHSTENCILSAMPLES, dst); return this; }
+        /** Copies the {@code depthStencilSamples} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getDepthStencilSamples(IntBuffer dst) { gather(VkFramebufferMixedSamplesCombinationNV.DEPTHSTENCILSAMPLES, dst); return this; }
+        /** Copies the {@code colorSamples} field of the structs between the current position and limit to the specified array. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getColorSamples(int[] dst) { gather(VkFramebufferMixedSamplesCombinationNV.COLORSAMPLES, dst); return this; }
+        /** Copies the {@code colorSamples} field of the structs between the current position and limit to the specified buffer. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer getColorSamples(IntBuffer dst) { gather(VkFramebufferMixedSamplesCombinationNV.COLORSAMPLES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer putSType(int[] src) { scatter(VkFramebufferMixedSamplesCombinationNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkFramebufferMixedSamplesCombinationNV.Buffer putSType(IntBuffer src) { scatter(VkFramebufferMixedSamplesCombinationNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
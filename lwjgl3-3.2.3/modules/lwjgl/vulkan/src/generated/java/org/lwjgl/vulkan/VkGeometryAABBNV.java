@@ -282,6 +282,24 @@ public class VkGeometryAABBNV extends Struct implements NativeResource {
         return wrap(VkGeometryAABBNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkGeometryAABBNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGeometryAABBNV malloc(MemoryArena arena) {
+        return wrap(VkGeometryAABBNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkGeometryAABBNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGeometryAABBNV calloc(MemoryArena arena) {
+        return wrap(VkGeometryAABBNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkGeometryAABBNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -320,6 +338,26 @@ public class VkGeometryAABBNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkGeometryAABBNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGeometryAABBNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkGeometryAABBNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGeometryAABBNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -418,6 +456,48 @@ public class VkGeometryAABBNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code offset} field. */
         public VkGeometryAABBNV.Buffer offset(@NativeType("VkDeviceSize") long value) { VkGeometryAABBNV.noffset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryAABBNV.Buffer getSType(int[] dst) { gather(VkGeometryAABBNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryAABBNV.Buffer getSType(IntBuffer dst) { gather(VkGeometryAABBNV.STYPE, dst); return this; }
+        /** Copies the {@code aabbData} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryAABBNV.Buffer getAabbData(long[] dst) { gather(VkGeometryAABBNV.AABBDATA, dst); return this; }
+        /** Copies the {@code aabbData} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryAABBNV.Buffer getAabbData(LongBuffer dst) { gather(VkGeometryAABBNV.AABBDATA, dst); return this; }
+        /** Copies the {@code numAABBs} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryAABBNV.Buffer getNumAABBs(int[] dst) { gather(VkGeometryAABBNV.NUMAABBS, dst); return this; }
+        /** Copies the {@code numAABBs} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryAABBNV.Buffer getNumAABBs(IntBuffer dst) { gather(VkGeometryAABBNV.NUMAABBS, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryAABBNV.Buffer getStride(int[] dst) { gather(VkGeometryAABBNV.STRIDE, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryAABBNV.Buffer getStride(IntBuffer dst) { gather(VkGeometryAABBNV.STRIDE, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryAABBNV.Buffer getOffset(long[] dst) { gather(VkGeometryAABBNV.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryAABBNV.Buffer getOffset(LongBuffer dst) { gather(VkGeometryAABBNV.OFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putSType(int[] src) { scatter(VkGeometryAABBNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putSType(IntBuffer src) { scatter(VkGeometryAABBNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code aabbData} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putAabbData(long[] src) { scatter(VkGeometryAABBNV.AABBDATA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aabbData} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putAabbData(LongBuffer src) { scatter(VkGeometryAABBNV.AABBDATA, src); return this; }
+        /** Copies the values in the specified array to the {@code numAABBs} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putNumAABBs(int[] src) { scatter(VkGeometryAABBNV.NUMAABBS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code numAABBs} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putNumAABBs(IntBuffer src) { scatter(VkGeometryAABBNV.NUMAABBS, src); return this; }
+        /** Copies the values in the specified array to the {@code stride} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putStride(int[] src) { scatter(VkGeometryAABBNV.STRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stride} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putStride(IntBuffer src) { scatter(VkGeometryAABBNV.STRIDE, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putOffset(long[] src) { scatter(VkGeometryAABBNV.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkGeometryAABBNV.Buffer putOffset(LongBuffer src) { scatter(VkGeometryAABBNV.OFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
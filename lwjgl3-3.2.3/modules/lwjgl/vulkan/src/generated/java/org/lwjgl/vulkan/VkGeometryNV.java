@@ -261,6 +261,24 @@ public class VkGeometryNV extends Struct implements NativeResource {
         return wrap(VkGeometryNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkGeometryNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGeometryNV malloc(MemoryArena arena) {
+        return wrap(VkGeometryNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkGeometryNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGeometryNV calloc(MemoryArena arena) {
+        return wrap(VkGeometryNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkGeometryNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkGeometryNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkGeometryNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGeometryNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkGeometryNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGeometryNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -389,6 +427,32 @@ public class VkGeometryNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code flags} field. */
         public VkGeometryNV.Buffer flags(@NativeType("VkGeometryFlagsNV") int value) { VkGeometryNV.nflags(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryNV.Buffer getSType(int[] dst) { gather(VkGeometryNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryNV.Buffer getSType(IntBuffer dst) { gather(VkGeometryNV.STYPE, dst); return this; }
+        /** Copies the {@code geometryType} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryNV.Buffer getGeometryType(int[] dst) { gather(VkGeometryNV.GEOMETRYTYPE, dst); return this; }
+        /** Copies the {@code geometryType} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryNV.Buffer getGeometryType(IntBuffer dst) { gather(VkGeometryNV.GEOMETRYTYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryNV.Buffer getFlags(int[] dst) { gather(VkGeometryNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryNV.Buffer getFlags(IntBuffer dst) { gather(VkGeometryNV.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkGeometryNV.Buffer putSType(int[] src) { scatter(VkGeometryNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkGeometryNV.Buffer putSType(IntBuffer src) { scatter(VkGeometryNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code geometryType} field of the structs between the current position and limit. */
+        public VkGeometryNV.Buffer putGeometryType(int[] src) { scatter(VkGeometryNV.GEOMETRYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code geometryType} field of the structs between the current position and limit. */
+        public VkGeometryNV.Buffer putGeometryType(IntBuffer src) { scatter(VkGeometryNV.GEOMETRYTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkGeometryNV.Buffer putFlags(int[] src) { scatter(VkGeometryNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkGeometryNV.Buffer putFlags(IntBuffer src) { scatter(VkGeometryNV.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
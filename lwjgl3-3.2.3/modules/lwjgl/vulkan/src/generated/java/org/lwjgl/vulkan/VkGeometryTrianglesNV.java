@@ -379,6 +379,24 @@ public class VkGeometryTrianglesNV extends Struct implements NativeResource {
         return wrap(VkGeometryTrianglesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkGeometryTrianglesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGeometryTrianglesNV malloc(MemoryArena arena) {
+        return wrap(VkGeometryTrianglesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkGeometryTrianglesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGeometryTrianglesNV calloc(MemoryArena arena) {
+        return wrap(VkGeometryTrianglesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkGeometryTrianglesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -417,6 +435,26 @@ public class VkGeometryTrianglesNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkGeometryTrianglesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGeometryTrianglesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkGeometryTrianglesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGeometryTrianglesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -578,6 +616,104 @@ public class VkGeometryTrianglesNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code transformOffset} field. */
         public VkGeometryTrianglesNV.Buffer transformOffset(@NativeType("VkDeviceSize") long value) { VkGeometryTrianglesNV.ntransformOffset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getSType(int[] dst) { gather(VkGeometryTrianglesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getSType(IntBuffer dst) { gather(VkGeometryTrianglesNV.STYPE, dst); return this; }
+        /** Copies the {@code vertexData} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getVertexData(long[] dst) { gather(VkGeometryTrianglesNV.VERTEXDATA, dst); return this; }
+        /** Copies the {@code vertexData} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getVertexData(LongBuffer dst) { gather(VkGeometryTrianglesNV.VERTEXDATA, dst); return this; }
+        /** Copies the {@code vertexOffset} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getVertexOffset(long[] dst) { gather(VkGeometryTrianglesNV.VERTEXOFFSET, dst); return this; }
+        /** Copies the {@code vertexOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getVertexOffset(LongBuffer dst) { gather(VkGeometryTrianglesNV.VERTEXOFFSET, dst); return this; }
+        /** Copies the {@code vertexCount} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getVertexCount(int[] dst) { gather(VkGeometryTrianglesNV.VERTEXCOUNT, dst); return this; }
+        /** Copies the {@code vertexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getVertexCount(IntBuffer dst) { gather(VkGeometryTrianglesNV.VERTEXCOUNT, dst); return this; }
+        /** Copies the {@code vertexStride} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getVertexStride(long[] dst) { gather(VkGeometryTrianglesNV.VERTEXSTRIDE, dst); return this; }
+        /** Copies the {@code vertexStride} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getVertexStride(LongBuffer dst) { gather(VkGeometryTrianglesNV.VERTEXSTRIDE, dst); return this; }
+        /** Copies the {@code vertexFormat} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getVertexFormat(int[] dst) { gather(VkGeometryTrianglesNV.VERTEXFORMAT, dst); return this; }
+        /** Copies the {@code vertexFormat} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getVertexFormat(IntBuffer dst) { gather(VkGeometryTrianglesNV.VERTEXFORMAT, dst); return this; }
+        /** Copies the {@code indexData} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getIndexData(long[] dst) { gather(VkGeometryTrianglesNV.INDEXDATA, dst); return this; }
+        /** Copies the {@code indexData} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getIndexData(LongBuffer dst) { gather(VkGeometryTrianglesNV.INDEXDATA, dst); return this; }
+        /** Copies the {@code indexOffset} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getIndexOffset(long[] dst) { gather(VkGeometryTrianglesNV.INDEXOFFSET, dst); return this; }
+        /** Copies the {@code indexOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getIndexOffset(LongBuffer dst) { gather(VkGeometryTrianglesNV.INDEXOFFSET, dst); return this; }
+        /** Copies the {@code indexCount} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getIndexCount(int[] dst) { gather(VkGeometryTrianglesNV.INDEXCOUNT, dst); return this; }
+        /** Copies the {@code indexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getIndexCount(IntBuffer dst) { gather(VkGeometryTrianglesNV.INDEXCOUNT, dst); return this; }
+        /** Copies the {@code indexType} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getIndexType(int[] dst) { gather(VkGeometryTrianglesNV.INDEXTYPE, dst); return this; }
+        /** Copies the {@code indexType} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getIndexType(IntBuffer dst) { gather(VkGeometryTrianglesNV.INDEXTYPE, dst); return this; }
+        /** Copies the {@code transformData} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getTransformData(long[] dst) { gather(VkGeometryTrianglesNV.TRANSFORMDATA, dst); return this; }
+        /** Copies the {@code transformData} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getTransformData(LongBuffer dst) { gather(VkGeometryTrianglesNV.TRANSFORMDATA, dst); return this; }
+        /** Copies the {@code transformOffset} field of the structs between the current position and limit to the specified array. */
+        public VkGeometryTrianglesNV.Buffer getTransformOffset(long[] dst) { gather(VkGeometryTrianglesNV.TRANSFORMOFFSET, dst); return this; }
+        /** Copies the {@code transformOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkGeometryTrianglesNV.Buffer getTransformOffset(LongBuffer dst) { gather(VkGeometryTrianglesNV.TRANSFORMOFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putSType(int[] src) { scatter(VkGeometryTrianglesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putSType(IntBuffer src) { scatter(VkGeometryTrianglesNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code vertexData} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexData(long[] src) { scatter(VkGeometryTrianglesNV.VERTEXDATA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexData} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexData(LongBuffer src) { scatter(VkGeometryTrianglesNV.VERTEXDATA, src); return this; }
+        /** Copies the values in the specified array to the {@code vertexOffset} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexOffset(long[] src) { scatter(VkGeometryTrianglesNV.VERTEXOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexOffset} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexOffset(LongBuffer src) { scatter(VkGeometryTrianglesNV.VERTEXOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code vertexCount} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexCount(int[] src) { scatter(VkGeometryTrianglesNV.VERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexCount} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexCount(IntBuffer src) { scatter(VkGeometryTrianglesNV.VERTEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code vertexStride} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexStride(long[] src) { scatter(VkGeometryTrianglesNV.VERTEXSTRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexStride} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexStride(LongBuffer src) { scatter(VkGeometryTrianglesNV.VERTEXSTRIDE, src); return this; }
+        /** Copies the values in the specified array to the {@code vertexFormat} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexFormat(int[] src) { scatter(VkGeometryTrianglesNV.VERTEXFORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code vertexFormat} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putVertexFormat(IntBuffer src) { scatter(VkGeometryTrianglesNV.VERTEXFORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code indexData} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexData(long[] src) { scatter(VkGeometryTrianglesNV.INDEXDATA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indexData} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexData(LongBuffer src) { scatter(VkGeometryTrianglesNV.INDEXDATA, src); return this; }
+        /** Copies the values in the specified array to the {@code indexOffset} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexOffset(long[] src) { scatter(VkGeometryTrianglesNV.INDEXOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indexOffset} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexOffset(LongBuffer src) { scatter(VkGeometryTrianglesNV.INDEXOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code indexCount} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexCount(int[] src) { scatter(VkGeometryTrianglesNV.INDEXCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indexCount} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexCount(IntBuffer src) { scatter(VkGeometryTrianglesNV.INDEXCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code indexType} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexType(int[] src) { scatter(VkGeometryTrianglesNV.INDEXTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indexType} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putIndexType(IntBuffer src) { scatter(VkGeometryTrianglesNV.INDEXTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code transformData} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putTransformData(long[] src) { scatter(VkGeometryTrianglesNV.TRANSFORMDATA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code transformData} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putTransformData(LongBuffer src) { scatter(VkGeometryTrianglesNV.TRANSFORMDATA, src); return this; }
+        /** Copies the values in the specified array to the {@code transformOffset} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putTransformOffset(long[] src) { scatter(VkGeometryTrianglesNV.TRANSFORMOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code transformOffset} field of the structs between the current position and limit. */
+        public VkGeometryTrianglesNV.Buffer putTransformOffset(LongBuffer src) { scatter(VkGeometryTrianglesNV.TRANSFORMOFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -519,6 +519,24 @@ public class VkGraphicsPipelineCreateInfo extends Struct implements NativeResour
         return wrap(VkGraphicsPipelineCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkGraphicsPipelineCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGraphicsPipelineCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkGraphicsPipelineCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkGraphicsPipelineCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkGraphicsPipelineCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkGraphicsPipelineCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkGraphicsPipelineCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -557,6 +575,26 @@ public class VkGraphicsPipelineCreateInfo extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkGraphicsPipelineCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGraphicsPipelineCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkGraphicsPipelineCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkGraphicsPipelineCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -815,6 +853,68 @@ public class VkGraphicsPipelineCreateInfo extends Struct implements NativeResour
         /** Sets the specified value to the {@code basePipelineIndex} field. */
         public VkGraphicsPipelineCreateInfo.Buffer basePipelineIndex(@NativeType("int32_t") int value) { VkGraphicsPipelineCreateInfo.nbasePipelineIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getSType(int[] dst) { gather(VkGraphicsPipelineCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkGraphicsPipelineCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getFlags(int[] dst) { gather(VkGraphicsPipelineCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkGraphicsPipelineCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code stageCount} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getStageCount(int[] dst) { gather(VkGraphicsPipelineCreateInfo.STAGECOUNT, dst); return this; }
+        /** Copies the {@code stageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getStageCount(IntBuffer dst) { gather(VkGraphicsPipelineCreateInfo.STAGECOUNT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getLayout(long[] dst) { gather(VkGraphicsPipelineCreateInfo.LAYOUT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getLayout(LongBuffer dst) { gather(VkGraphicsPipelineCreateInfo.LAYOUT, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getRenderPass(long[] dst) { gather(VkGraphicsPipelineCreateInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getRenderPass(LongBuffer dst) { gather(VkGraphicsPipelineCreateInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code subpass} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getSubpass(int[] dst) { gather(VkGraphicsPipelineCreateInfo.SUBPASS, dst); return this; }
+        /** Copies the {@code subpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getSubpass(IntBuffer dst) { gather(VkGraphicsPipelineCreateInfo.SUBPASS, dst); return this; }
+        /** Copies the {@code basePipelineHandle} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getBasePipelineHandle(long[] dst) { gather(VkGraphicsPipelineCreateInfo.BASEPIPELINEHANDLE, dst); return this; }
+        /** Copies the {@code basePipelineHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getBasePipelineHandle(LongBuffer dst) { gather(VkGraphicsPipelineCreateInfo.BASEPIPELINEHANDLE, dst); return this; }
+        /** Copies the {@code basePipelineIndex} field of the structs between the current position and limit to the specified array. */
+        public VkGraphicsPipelineCreateInfo.Buffer getBasePipelineIndex(int[] dst) { gather(VkGraphicsPipelineCreateInfo.BASEPIPELINEINDEX, dst); return this; }
+        /** Copies the {@code basePipelineIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkGraphicsPipelineCreateInfo.Buffer getBasePipelineIndex(IntBuffer dst) { gather(VkGraphicsPipelineCreateInfo.BASEPIPELINEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putSType(int[] src) { scatter(VkGraphicsPipelineCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkGraphicsPipelineCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putFlags(int[] src) { scatter(VkGraphicsPipelineCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkGraphicsPipelineCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code layout} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putLayout(long[] src) { scatter(VkGraphicsPipelineCreateInfo.LAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layout} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putLayout(LongBuffer src) { scatter(VkGraphicsPipelineCreateInfo.LAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putRenderPass(long[] src) { scatter(VkGraphicsPipelineCreateInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putRenderPass(LongBuffer src) { scatter(VkGraphicsPipelineCreateInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code subpass} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putSubpass(int[] src) { scatter(VkGraphicsPipelineCreateInfo.SUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code subpass} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putSubpass(IntBuffer src) { scatter(VkGraphicsPipelineCreateInfo.SUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code basePipelineHandle} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putBasePipelineHandle(long[] src) { scatter(VkGraphicsPipelineCreateInfo.BASEPIPELINEHANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code basePipelineHandle} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putBasePipelineHandle(LongBuffer src) { scatter(VkGraphicsPipelineCreateInfo.BASEPIPELINEHANDLE, src); return this; }
+        /** Copies the values in the specified array to the {@code basePipelineIndex} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putBasePipelineIndex(int[] src) { scatter(VkGraphicsPipelineCreateInfo.BASEPIPELINEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code basePipelineIndex} field of the structs between the current position and limit. */
+        public VkGraphicsPipelineCreateInfo.Buffer putBasePipelineIndex(IntBuffer src) { scatter(VkGraphicsPipelineCreateInfo.BASEPIPELINEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
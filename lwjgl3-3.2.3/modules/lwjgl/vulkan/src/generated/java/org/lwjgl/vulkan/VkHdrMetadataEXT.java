@@ -322,6 +322,24 @@ public class VkHdrMetadataEXT extends Struct implements NativeResource {
         return wrap(VkHdrMetadataEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkHdrMetadataEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkHdrMetadataEXT malloc(MemoryArena arena) {
+        return wrap(VkHdrMetadataEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkHdrMetadataEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkHdrMetadataEXT calloc(MemoryArena arena) {
+        return wrap(VkHdrMetadataEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkHdrMetadataEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -360,6 +378,26 @@ public class VkHdrMetadataEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkHdrMetadataEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkHdrMetadataEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkHdrMetadataEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkHdrMetadataEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -494,6 +532,48 @@ public class VkHdrMetadataEXT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code maxFrameAverageLightLevel} field. */
         public VkHdrMetadataEXT.Buffer maxFrameAverageLightLevel(float value) { VkHdrMetadataEXT.nmaxFrameAverageLightLevel(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkHdrMetadataEXT.Buffer getSType(int[] dst) { gather(VkHdrMetadataEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkHdrMetadataEXT.Buffer getSType(IntBuffer dst) { gather(VkHdrMetadataEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxLuminance} field of the structs between the current position and limit to the specified array. */
+        public VkHdrMetadataEXT.Buffer getMaxLuminance(float[] dst) { gather(VkHdrMetadataEXT.MAXLUMINANCE, dst); return this; }
+        /** Copies the {@code maxLuminance} field of the structs between the current position and limit to the specified buffer. */
+        public VkHdrMetadataEXT.Buffer getMaxLuminance(FloatBuffer dst) { gather(VkHdrMetadataEXT.MAXLUMINANCE, dst); return this; }
+        /** Copies the {@code minLuminance} field of the structs between the current position and limit to the specified array. */
+        public VkHdrMetadataEXT.Buffer getMinLuminance(float[] dst) { gather(VkHdrMetadataEXT.MINLUMINANCE, dst); return this; }
+        /** Copies the {@code minLuminance} field of the structs between the current position and limit to the specified buffer. */
+        public VkHdrMetadataEXT.Buffer getMinLuminance(FloatBuffer dst) { gather(VkHdrMetadataEXT.MINLUMINANCE, dst); return this; }
+        /** Copies the {@code maxContentLightLevel} field of the structs between the current position and limit to the specified array. */
+        public VkHdrMetadataEXT.Buffer getMaxContentLightLevel(float[] dst) { gather(VkHdrMetadataEXT.MAXCONTENTLIGHTLEVEL, dst); return this; }
+        /** Copies the {@code maxContentLightLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VkHdrMetadataEXT.Buffer getMaxContentLightLevel(FloatBuffer dst) { gather(VkHdrMetadataEXT.MAXCONTENTLIGHTLEVEL, dst); return this; }
+        /** Copies the {@code maxFrameAverageLightLevel} field of the structs between the current position and limit to the specified array. */
+        public VkHdrMetadataEXT.Buffer getMaxFrameAverageLightLevel(float[] dst) { gather(VkHdrMetadataEXT.MAXFRAMEAVERAGELIGHTLEVEL, dst); return this; }
+        /** Copies the {@code maxFrameAverageLightLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VkHdrMetadataEXT.Buffer getMaxFrameAverageLightLevel(FloatBuffer dst) { gather(VkHdrMetadataEXT.MAXFRAMEAVERAGELIGHTLEVEL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putSType(int[] src) { scatter(VkHdrMetadataEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putSType(IntBuffer src) { scatter(VkHdrMetadataEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxLuminance} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMaxLuminance(float[] src) { scatter(VkHdrMetadataEXT.MAXLUMINANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxLuminance} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMaxLuminance(FloatBuffer src) { scatter(VkHdrMetadataEXT.MAXLUMINANCE, src); return this; }
+        /** Copies the values in the specified array to the {@code minLuminance} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMinLuminance(float[] src) { scatter(VkHdrMetadataEXT.MINLUMINANCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minLuminance} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMinLuminance(FloatBuffer src) { scatter(VkHdrMetadataEXT.MINLUMINANCE, src); return this; }
+        /** Copies the values in the specified array to the {@code maxContentLightLevel} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMaxContentLightLevel(float[] src) { scatter(VkHdrMetadataEXT.MAXCONTENTLIGHTLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxContentLightLevel} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMaxContentLightLevel(FloatBuffer src) { scatter(VkHdrMetadataEXT.MAXCONTENTLIGHTLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code maxFrameAverageLightLevel} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMaxFrameAverageLightLevel(float[] src) { scatter(VkHdrMetadataEXT.MAXFRAMEAVERAGELIGHTLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxFrameAverageLightLevel} field of the structs between the current position and limit. */
+        public VkHdrMetadataEXT.Buffer putMaxFrameAverageLightLevel(FloatBuffer src) { scatter(VkHdrMetadataEXT.MAXFRAMEAVERAGELIGHTLEVEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
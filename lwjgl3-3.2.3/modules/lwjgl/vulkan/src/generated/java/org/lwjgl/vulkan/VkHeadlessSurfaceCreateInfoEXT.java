@@ -234,6 +234,24 @@ public class VkHeadlessSurfaceCreateInfoEXT extends Struct implements NativeReso
         return wrap(VkHeadlessSurfaceCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkHeadlessSurfaceCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkHeadlessSurfaceCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkHeadlessSurfaceCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkHeadlessSurfaceCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkHeadlessSurfaceCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkHeadlessSurfaceCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkHeadlessSurfaceCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkHeadlessSurfaceCreateInfoEXT extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkHeadlessSurfaceCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkHeadlessSurfaceCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkHeadlessSurfaceCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkHeadlessSurfaceCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkHeadlessSurfaceCreateInfoEXT extends Struct implements NativeReso
         /** Sets the specified value to the {@code flags} field. */
         public VkHeadlessSurfaceCreateInfoEXT.Buffer flags(@NativeType("VkHeadlessSurfaceCreateFlagsEXT") int value) { VkHeadlessSurfaceCreateInfoEXT.nflags(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkHeadlessSurfaceCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkHeadlessSurfaceCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkHeadlessSurfaceCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkHeadlessSurfaceCreateInfoEXT.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkHeadlessSurfaceCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkHeadlessSurfaceCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkHeadlessSurfaceCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkHeadlessSurfaceCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkHeadlessSurfaceCreateInfoEXT.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -555,6 +555,24 @@ public class VkImageCreateInfo extends Struct implements NativeResource {
         return wrap(VkImageCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkImageCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkImageCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -593,6 +611,26 @@ public class VkImageCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -795,6 +833,100 @@ public class VkImageCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code initialLayout} field. */
         public VkImageCreateInfo.Buffer initialLayout(@NativeType("VkImageLayout") int value) { VkImageCreateInfo.ninitialLayout(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getSType(int[] dst) { gather(VkImageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkImageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getFlags(int[] dst) { gather(VkImageCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkImageCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code imageType} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getImageType(int[] dst) { gather(VkImageCreateInfo.IMAGETYPE, dst); return this; }
+        /** Copies the {@code imageType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getImageType(IntBuffer dst) { gather(VkImageCreateInfo.IMAGETYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getFormat(int[] dst) { gather(VkImageCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getFormat(IntBuffer dst) { gather(VkImageCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code mipLevels} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getMipLevels(int[] dst) { gather(VkImageCreateInfo.MIPLEVELS, dst); return this; }
+        /** Copies the {@code mipLevels} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getMipLevels(IntBuffer dst) { gather(VkImageCreateInfo.MIPLEVELS, dst); return this; }
+        /** Copies the {@code arrayLayers} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getArrayLayers(int[] dst) { gather(VkImageCreateInfo.ARRAYLAYERS, dst); return this; }
+        /** Copies the {@code arrayLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getArrayLayers(IntBuffer dst) { gather(VkImageCreateInfo.ARRAYLAYERS, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getSamples(int[] dst) { gather(VkImageCreateInfo.SAMPLES, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getSamples(IntBuffer dst) { gather(VkImageCreateInfo.SAMPLES, dst); return this; }
+        /** Copies the {@code tiling} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getTiling(int[] dst) { gather(VkImageCreateInfo.TILING, dst); return this; }
+        /** Copies the {@code tiling} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getTiling(IntBuffer dst) { gather(VkImageCreateInfo.TILING, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getUsage(int[] dst) { gather(VkImageCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getUsage(IntBuffer dst) { gather(VkImageCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code sharingMode} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getSharingMode(int[] dst) { gather(VkImageCreateInfo.SHARINGMODE, dst); return this; }
+        /** Copies the {@code sharingMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getSharingMode(IntBuffer dst) { gather(VkImageCreateInfo.SHARINGMODE, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getQueueFamilyIndexCount(int[] dst) { gather(VkImageCreateInfo.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getQueueFamilyIndexCount(IntBuffer dst) { gather(VkImageCreateInfo.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+        /** Copies the {@code initialLayout} field of the structs between the current position and limit to the specified array. */
+        public VkImageCreateInfo.Buffer getInitialLayout(int[] dst) { gather(VkImageCreateInfo.INITIALLAYOUT, dst); return this; }
+        /** Copies the {@code initialLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageCreateInfo.Buffer getInitialLayout(IntBuffer dst) { gather(VkImageCreateInfo.INITIALLAYOUT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putSType(int[] src) { scatter(VkImageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkImageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putFlags(int[] src) { scatter(VkImageCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkImageCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code imageType} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putImageType(int[] src) { scatter(VkImageCreateInfo.IMAGETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageType} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putImageType(IntBuffer src) { scatter(VkImageCreateInfo.IMAGETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putFormat(int[] src) { scatter(VkImageCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putFormat(IntBuffer src) { scatter(VkImageCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code mipLevels} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putMipLevels(int[] src) { scatter(VkImageCreateInfo.MIPLEVELS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipLevels} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putMipLevels(IntBuffer src) { scatter(VkImageCreateInfo.MIPLEVELS, src); return this; }
+        /** Copies the values in the specified array to the {@code arrayLayers} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putArrayLayers(int[] src) { scatter(VkImageCreateInfo.ARRAYLAYERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code arrayLayers} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putArrayLayers(IntBuffer src) { scatter(VkImageCreateInfo.ARRAYLAYERS, src); return this; }
+        /** Copies the values in the specified array to the {@code samples} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putSamples(int[] src) { scatter(VkImageCreateInfo.SAMPLES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code samples} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putSamples(IntBuffer src) { scatter(VkImageCreateInfo.SAMPLES, src); return this; }
+        /** Copies the values in the specified array to the {@code tiling} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putTiling(int[] src) { scatter(VkImageCreateInfo.TILING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tiling} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putTiling(IntBuffer src) { scatter(VkImageCreateInfo.TILING, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putUsage(int[] src) { scatter(VkImageCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putUsage(IntBuffer src) { scatter(VkImageCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code sharingMode} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putSharingMode(int[] src) { scatter(VkImageCreateInfo.SHARINGMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sharingMode} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putSharingMode(IntBuffer src) { scatter(VkImageCreateInfo.SHARINGMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code initialLayout} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putInitialLayout(int[] src) { scatter(VkImageCreateInfo.INITIALLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code initialLayout} field of the structs between the current position and limit. */
+        public VkImageCreateInfo.Buffer putInitialLayout(IntBuffer src) { scatter(VkImageCreateInfo.INITIALLAYOUT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -271,6 +271,24 @@ public class VkImageDrmFormatModifierExplicitCreateInfoEXT extends Struct implem
         return wrap(VkImageDrmFormatModifierExplicitCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageDrmFormatModifierExplicitCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierExplicitCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkImageDrmFormatModifierExplicitCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageDrmFormatModifierExplicitCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierExplicitCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkImageDrmFormatModifierExplicitCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -309,6 +327,26 @@ public class VkImageDrmFormatModifierExplicitCreateInfoEXT extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -420,6 +458,28 @@ public class VkImageDrmFormatModifierExplicitCreateInfoEXT extends Struct implem
         /** Sets the address of the specified {@link VkSubresourceLayout.Buffer} to the {@code pPlaneLayouts} field. */
         public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer pPlaneLayouts(@Nullable @NativeType("VkSubresourceLayout const *") VkSubresourceLayout.Buffer value) { VkImageDrmFormatModifierExplicitCreateInfoEXT.npPlaneLayouts(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkImageDrmFormatModifierExplicitCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkImageDrmFormatModifierExplicitCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer getDrmFormatModifier(long[] dst) { gather(VkImageDrmFormatModifierExplicitCreateInfoEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer getDrmFormatModifier(LongBuffer dst) { gather(VkImageDrmFormatModifierExplicitCreateInfoEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code drmFormatModifierPlaneCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer getDrmFormatModifierPlaneCount(int[] dst) { gather(VkImageDrmFormatModifierExplicitCreateInfoEXT.DRMFORMATMODIFIERPLANECOUNT, dst); return this; }
+        /** Copies the {@code drmFormatModifierPlaneCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer getDrmFormatModifierPlaneCount(IntBuffer dst) { gather(VkImageDrmFormatModifierExplicitCreateInfoEXT.DRMFORMATMODIFIERPLANECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkImageDrmFormatModifierExplicitCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkImageDrmFormatModifierExplicitCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code drmFormatModifier} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer putDrmFormatModifier(long[] src) { scatter(VkImageDrmFormatModifierExplicitCreateInfoEXT.DRMFORMATMODIFIER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code drmFormatModifier} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierExplicitCreateInfoEXT.Buffer putDrmFormatModifier(LongBuffer src) { scatter(VkImageDrmFormatModifierExplicitCreateInfoEXT.DRMFORMATMODIFIER, src); return this; }
+
     }
 
 }
\ No newline at end of file
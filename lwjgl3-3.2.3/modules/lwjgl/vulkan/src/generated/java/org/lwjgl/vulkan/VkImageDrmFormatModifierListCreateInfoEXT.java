@@ -245,6 +245,24 @@ public class VkImageDrmFormatModifierListCreateInfoEXT extends Struct implements
         return wrap(VkImageDrmFormatModifierListCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageDrmFormatModifierListCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierListCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkImageDrmFormatModifierListCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageDrmFormatModifierListCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierListCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkImageDrmFormatModifierListCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageDrmFormatModifierListCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class VkImageDrmFormatModifierListCreateInfoEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageDrmFormatModifierListCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierListCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageDrmFormatModifierListCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierListCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -382,6 +420,20 @@ public class VkImageDrmFormatModifierListCreateInfoEXT extends Struct implements
         /** Sets the address of the specified {@link LongBuffer} to the {@code pDrmFormatModifiers} field. */
         public VkImageDrmFormatModifierListCreateInfoEXT.Buffer pDrmFormatModifiers(@NativeType("uint64_t const *") LongBuffer value) { VkImageDrmFormatModifierListCreateInfoEXT.npDrmFormatModifiers(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierListCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkImageDrmFormatModifierListCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierListCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkImageDrmFormatModifierListCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code drmFormatModifierCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierListCreateInfoEXT.Buffer getDrmFormatModifierCount(int[] dst) { gather(VkImageDrmFormatModifierListCreateInfoEXT.DRMFORMATMODIFIERCOUNT, dst); return this; }
+        /** Copies the {@code drmFormatModifierCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierListCreateInfoEXT.Buffer getDrmFormatModifierCount(IntBuffer dst) { gather(VkImageDrmFormatModifierListCreateInfoEXT.DRMFORMATMODIFIERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierListCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkImageDrmFormatModifierListCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierListCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkImageDrmFormatModifierListCreateInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkImageDrmFormatModifierPropertiesEXT extends Struct implements Nat
         return wrap(VkImageDrmFormatModifierPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageDrmFormatModifierPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkImageDrmFormatModifierPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageDrmFormatModifierPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkImageDrmFormatModifierPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageDrmFormatModifierPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkImageDrmFormatModifierPropertiesEXT extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageDrmFormatModifierPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageDrmFormatModifierPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageDrmFormatModifierPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,20 @@ public class VkImageDrmFormatModifierPropertiesEXT extends Struct implements Nat
         /** Sets the specified value to the {@code pNext} field. */
         public VkImageDrmFormatModifierPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkImageDrmFormatModifierPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierPropertiesEXT.Buffer getSType(int[] dst) { gather(VkImageDrmFormatModifierPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkImageDrmFormatModifierPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified array. */
+        public VkImageDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifier(long[] dst) { gather(VkImageDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageDrmFormatModifierPropertiesEXT.Buffer getDrmFormatModifier(LongBuffer dst) { gather(VkImageDrmFormatModifierPropertiesEXT.DRMFORMATMODIFIER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierPropertiesEXT.Buffer putSType(int[] src) { scatter(VkImageDrmFormatModifierPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageDrmFormatModifierPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkImageDrmFormatModifierPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -251,6 +251,24 @@ public class VkImageFormatListCreateInfoKHR extends Struct implements NativeReso
         return wrap(VkImageFormatListCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageFormatListCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageFormatListCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImageFormatListCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageFormatListCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageFormatListCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImageFormatListCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageFormatListCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -289,6 +307,26 @@ public class VkImageFormatListCreateInfoKHR extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageFormatListCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageFormatListCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageFormatListCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageFormatListCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -391,6 +429,20 @@ public class VkImageFormatListCreateInfoKHR extends Struct implements NativeReso
         /** Sets the address of the specified {@link IntBuffer} to the {@code pViewFormats} field. */
         public VkImageFormatListCreateInfoKHR.Buffer pViewFormats(@Nullable @NativeType("VkFormat const *") IntBuffer value) { VkImageFormatListCreateInfoKHR.npViewFormats(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageFormatListCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkImageFormatListCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageFormatListCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImageFormatListCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code viewFormatCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageFormatListCreateInfoKHR.Buffer getViewFormatCount(int[] dst) { gather(VkImageFormatListCreateInfoKHR.VIEWFORMATCOUNT, dst); return this; }
+        /** Copies the {@code viewFormatCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageFormatListCreateInfoKHR.Buffer getViewFormatCount(IntBuffer dst) { gather(VkImageFormatListCreateInfoKHR.VIEWFORMATCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageFormatListCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkImageFormatListCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageFormatListCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImageFormatListCreateInfoKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -238,6 +238,24 @@ public class VkImageFormatProperties extends Struct implements NativeResource {
         return wrap(VkImageFormatProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageFormatProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageFormatProperties malloc(MemoryArena arena) {
+        return wrap(VkImageFormatProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageFormatProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageFormatProperties calloc(MemoryArena arena) {
+        return wrap(VkImageFormatProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageFormatProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class VkImageFormatProperties extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageFormatProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageFormatProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #maxExtent}. */
@@ -342,6 +380,23 @@ public class VkImageFormatProperties extends Struct implements NativeResource {
         @NativeType("VkDeviceSize")
         public long maxResourceSize() { return VkImageFormatProperties.nmaxResourceSize(address()); }
 
+        /** Copies the {@code maxMipLevels} field of the structs between the current position and limit to the specified array. */
+        public VkImageFormatProperties.Buffer getMaxMipLevels(int[] dst) { gather(VkImageFormatProperties.MAXMIPLEVELS, dst); return this; }
+        /** Copies the {@code maxMipLevels} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageFormatProperties.Buffer getMaxMipLevels(IntBuffer dst) { gather(VkImageFormatProperties.MAXMIPLEVELS, dst); return this; }
+        /** Copies the {@code maxArrayLayers} field of the structs between the current position and limit to the specified array. */
+        public VkImageFormatProperties.Buffer getMaxArrayLayers(int[] dst) { gather(VkImageFormatProperties.MAXARRAYLAYERS, dst); return this; }
+        /** Copies the {@code maxArrayLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageFormatProperties.Buffer getMaxArrayLayers(IntBuffer dst) { gather(VkImageFormatProperties.MAXARRAYLAYERS, dst); return this; }
+        /** Copies the {@code sampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkImageFormatProperties.Buffer getSampleCounts(int[] dst) { gather(VkImageFormatProperties.SAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageFormatProperties.Buffer getSampleCounts(IntBuffer dst) { gather(VkImageFormatProperties.SAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code maxResourceSize} field of the structs between the current position and limit to the specified array. */
+        public VkImageFormatProperties.Buffer getMaxResourceSize(long[] dst) { gather(VkImageFormatProperties.MAXRESOURCESIZE, dst); return this; }
+        /** Copies the {@code maxResourceSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageFormatProperties.Buffer getMaxResourceSize(LongBuffer dst) { gather(VkImageFormatProperties.MAXRESOURCESIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -375,6 +375,24 @@ public class VkImageMemoryBarrier extends Struct implements NativeResource {
         return wrap(VkImageMemoryBarrier.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageMemoryBarrier} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageMemoryBarrier malloc(MemoryArena arena) {
+        return wrap(VkImageMemoryBarrier.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageMemoryBarrier} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageMemoryBarrier calloc(MemoryArena arena) {
+        return wrap(VkImageMemoryBarrier.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageMemoryBarrier.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -413,6 +431,26 @@ public class VkImageMemoryBarrier extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageMemoryBarrier.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageMemoryBarrier.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageMemoryBarrier.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageMemoryBarrier.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -548,6 +586,72 @@ public class VkImageMemoryBarrier extends Struct implements NativeResource {
         /** Passes the {@code subresourceRange} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkImageMemoryBarrier.Buffer subresourceRange(java.util.function.Consumer<VkImageSubresourceRange> consumer) { consumer.accept(subresourceRange()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getSType(int[] dst) { gather(VkImageMemoryBarrier.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getSType(IntBuffer dst) { gather(VkImageMemoryBarrier.STYPE, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getSrcAccessMask(int[] dst) { gather(VkImageMemoryBarrier.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getSrcAccessMask(IntBuffer dst) { gather(VkImageMemoryBarrier.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getDstAccessMask(int[] dst) { gather(VkImageMemoryBarrier.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getDstAccessMask(IntBuffer dst) { gather(VkImageMemoryBarrier.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code oldLayout} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getOldLayout(int[] dst) { gather(VkImageMemoryBarrier.OLDLAYOUT, dst); return this; }
+        /** Copies the {@code oldLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getOldLayout(IntBuffer dst) { gather(VkImageMemoryBarrier.OLDLAYOUT, dst); return this; }
+        /** Copies the {@code newLayout} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getNewLayout(int[] dst) { gather(VkImageMemoryBarrier.NEWLAYOUT, dst); return this; }
+        /** Copies the {@code newLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getNewLayout(IntBuffer dst) { gather(VkImageMemoryBarrier.NEWLAYOUT, dst); return this; }
+        /** Copies the {@code srcQueueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getSrcQueueFamilyIndex(int[] dst) { gather(VkImageMemoryBarrier.SRCQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code srcQueueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getSrcQueueFamilyIndex(IntBuffer dst) { gather(VkImageMemoryBarrier.SRCQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code dstQueueFamilyIndex} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getDstQueueFamilyIndex(int[] dst) { gather(VkImageMemoryBarrier.DSTQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code dstQueueFamilyIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getDstQueueFamilyIndex(IntBuffer dst) { gather(VkImageMemoryBarrier.DSTQUEUEFAMILYINDEX, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryBarrier.Buffer getImage(long[] dst) { gather(VkImageMemoryBarrier.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryBarrier.Buffer getImage(LongBuffer dst) { gather(VkImageMemoryBarrier.IMAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putSType(int[] src) { scatter(VkImageMemoryBarrier.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putSType(IntBuffer src) { scatter(VkImageMemoryBarrier.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putSrcAccessMask(int[] src) { scatter(VkImageMemoryBarrier.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putSrcAccessMask(IntBuffer src) { scatter(VkImageMemoryBarrier.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putDstAccessMask(int[] src) { scatter(VkImageMemoryBarrier.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putDstAccessMask(IntBuffer src) { scatter(VkImageMemoryBarrier.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code oldLayout} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putOldLayout(int[] src) { scatter(VkImageMemoryBarrier.OLDLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code oldLayout} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putOldLayout(IntBuffer src) { scatter(VkImageMemoryBarrier.OLDLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code newLayout} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putNewLayout(int[] src) { scatter(VkImageMemoryBarrier.NEWLAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code newLayout} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putNewLayout(IntBuffer src) { scatter(VkImageMemoryBarrier.NEWLAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code srcQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putSrcQueueFamilyIndex(int[] src) { scatter(VkImageMemoryBarrier.SRCQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putSrcQueueFamilyIndex(IntBuffer src) { scatter(VkImageMemoryBarrier.SRCQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code dstQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putDstQueueFamilyIndex(int[] src) { scatter(VkImageMemoryBarrier.DSTQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstQueueFamilyIndex} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putDstQueueFamilyIndex(IntBuffer src) { scatter(VkImageMemoryBarrier.DSTQUEUEFAMILYINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putImage(long[] src) { scatter(VkImageMemoryBarrier.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkImageMemoryBarrier.Buffer putImage(LongBuffer src) { scatter(VkImageMemoryBarrier.IMAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -243,6 +243,24 @@ public class VkImageMemoryRequirementsInfo2 extends Struct implements NativeReso
         return wrap(VkImageMemoryRequirementsInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageMemoryRequirementsInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageMemoryRequirementsInfo2 malloc(MemoryArena arena) {
+        return wrap(VkImageMemoryRequirementsInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageMemoryRequirementsInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageMemoryRequirementsInfo2 calloc(MemoryArena arena) {
+        return wrap(VkImageMemoryRequirementsInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageMemoryRequirementsInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class VkImageMemoryRequirementsInfo2 extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageMemoryRequirementsInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageMemoryRequirementsInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageMemoryRequirementsInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageMemoryRequirementsInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -352,6 +390,24 @@ public class VkImageMemoryRequirementsInfo2 extends Struct implements NativeReso
         /** Sets the specified value to the {@code image} field. */
         public VkImageMemoryRequirementsInfo2.Buffer image(@NativeType("VkImage") long value) { VkImageMemoryRequirementsInfo2.nimage(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryRequirementsInfo2.Buffer getSType(int[] dst) { gather(VkImageMemoryRequirementsInfo2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryRequirementsInfo2.Buffer getSType(IntBuffer dst) { gather(VkImageMemoryRequirementsInfo2.STYPE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkImageMemoryRequirementsInfo2.Buffer getImage(long[] dst) { gather(VkImageMemoryRequirementsInfo2.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageMemoryRequirementsInfo2.Buffer getImage(LongBuffer dst) { gather(VkImageMemoryRequirementsInfo2.IMAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageMemoryRequirementsInfo2.Buffer putSType(int[] src) { scatter(VkImageMemoryRequirementsInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageMemoryRequirementsInfo2.Buffer putSType(IntBuffer src) { scatter(VkImageMemoryRequirementsInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkImageMemoryRequirementsInfo2.Buffer putImage(long[] src) { scatter(VkImageMemoryRequirementsInfo2.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkImageMemoryRequirementsInfo2.Buffer putImage(LongBuffer src) { scatter(VkImageMemoryRequirementsInfo2.IMAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -236,6 +236,24 @@ public class VkImagePlaneMemoryRequirementsInfo extends Struct implements Native
         return wrap(VkImagePlaneMemoryRequirementsInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImagePlaneMemoryRequirementsInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImagePlaneMemoryRequirementsInfo malloc(MemoryArena arena) {
+        return wrap(VkImagePlaneMemoryRequirementsInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImagePlaneMemoryRequirementsInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImagePlaneMemoryRequirementsInfo calloc(MemoryArena arena) {
+        return wrap(VkImagePlaneMemoryRequirementsInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImagePlaneMemoryRequirementsInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class VkImagePlaneMemoryRequirementsInfo extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImagePlaneMemoryRequirementsInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImagePlaneMemoryRequirementsInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImagePlaneMemoryRequirementsInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImagePlaneMemoryRequirementsInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -345,6 +383,24 @@ public class VkImagePlaneMemoryRequirementsInfo extends Struct implements Native
         /** Sets the specified value to the {@code planeAspect} field. */
         public VkImagePlaneMemoryRequirementsInfo.Buffer planeAspect(@NativeType("VkImageAspectFlagBits") int value) { VkImagePlaneMemoryRequirementsInfo.nplaneAspect(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer getSType(int[] dst) { gather(VkImagePlaneMemoryRequirementsInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer getSType(IntBuffer dst) { gather(VkImagePlaneMemoryRequirementsInfo.STYPE, dst); return this; }
+        /** Copies the {@code planeAspect} field of the structs between the current position and limit to the specified array. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer getPlaneAspect(int[] dst) { gather(VkImagePlaneMemoryRequirementsInfo.PLANEASPECT, dst); return this; }
+        /** Copies the {@code planeAspect} field of the structs between the current position and limit to the specified buffer. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer getPlaneAspect(IntBuffer dst) { gather(VkImagePlaneMemoryRequirementsInfo.PLANEASPECT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer putSType(int[] src) { scatter(VkImagePlaneMemoryRequirementsInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer putSType(IntBuffer src) { scatter(VkImagePlaneMemoryRequirementsInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code planeAspect} field of the structs between the current position and limit. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer putPlaneAspect(int[] src) { scatter(VkImagePlaneMemoryRequirementsInfo.PLANEASPECT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code planeAspect} field of the structs between the current position and limit. */
+        public VkImagePlaneMemoryRequirementsInfo.Buffer putPlaneAspect(IntBuffer src) { scatter(VkImagePlaneMemoryRequirementsInfo.PLANEASPECT, src); return this; }
+
     }
 
 }
\ No newline at end of file
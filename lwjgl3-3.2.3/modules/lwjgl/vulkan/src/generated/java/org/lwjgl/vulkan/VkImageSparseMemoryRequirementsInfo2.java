@@ -234,6 +234,24 @@ public class VkImageSparseMemoryRequirementsInfo2 extends Struct implements Nati
         return wrap(VkImageSparseMemoryRequirementsInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageSparseMemoryRequirementsInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSparseMemoryRequirementsInfo2 malloc(MemoryArena arena) {
+        return wrap(VkImageSparseMemoryRequirementsInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageSparseMemoryRequirementsInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSparseMemoryRequirementsInfo2 calloc(MemoryArena arena) {
+        return wrap(VkImageSparseMemoryRequirementsInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageSparseMemoryRequirementsInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkImageSparseMemoryRequirementsInfo2 extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageSparseMemoryRequirementsInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSparseMemoryRequirementsInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageSparseMemoryRequirementsInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSparseMemoryRequirementsInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkImageSparseMemoryRequirementsInfo2 extends Struct implements Nati
         /** Sets the specified value to the {@code image} field. */
         public VkImageSparseMemoryRequirementsInfo2.Buffer image(@NativeType("VkImage") long value) { VkImageSparseMemoryRequirementsInfo2.nimage(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer getSType(int[] dst) { gather(VkImageSparseMemoryRequirementsInfo2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer getSType(IntBuffer dst) { gather(VkImageSparseMemoryRequirementsInfo2.STYPE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer getImage(long[] dst) { gather(VkImageSparseMemoryRequirementsInfo2.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer getImage(LongBuffer dst) { gather(VkImageSparseMemoryRequirementsInfo2.IMAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer putSType(int[] src) { scatter(VkImageSparseMemoryRequirementsInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer putSType(IntBuffer src) { scatter(VkImageSparseMemoryRequirementsInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer putImage(long[] src) { scatter(VkImageSparseMemoryRequirementsInfo2.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkImageSparseMemoryRequirementsInfo2.Buffer putImage(LongBuffer src) { scatter(VkImageSparseMemoryRequirementsInfo2.IMAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
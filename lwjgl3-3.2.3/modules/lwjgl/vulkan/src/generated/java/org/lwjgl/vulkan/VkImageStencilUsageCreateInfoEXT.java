@@ -242,6 +242,24 @@ public class VkImageStencilUsageCreateInfoEXT extends Struct implements NativeRe
         return wrap(VkImageStencilUsageCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageStencilUsageCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageStencilUsageCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkImageStencilUsageCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageStencilUsageCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageStencilUsageCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkImageStencilUsageCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageStencilUsageCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -280,6 +298,26 @@ public class VkImageStencilUsageCreateInfoEXT extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageStencilUsageCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageStencilUsageCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageStencilUsageCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageStencilUsageCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -351,6 +389,24 @@ public class VkImageStencilUsageCreateInfoEXT extends Struct implements NativeRe
         /** Sets the specified value to the {@code stencilUsage} field. */
         public VkImageStencilUsageCreateInfoEXT.Buffer stencilUsage(@NativeType("VkImageUsageFlags") int value) { VkImageStencilUsageCreateInfoEXT.nstencilUsage(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkImageStencilUsageCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkImageStencilUsageCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code stencilUsage} field of the structs between the current position and limit to the specified array. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer getStencilUsage(int[] dst) { gather(VkImageStencilUsageCreateInfoEXT.STENCILUSAGE, dst); return this; }
+        /** Copies the {@code stencilUsage} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer getStencilUsage(IntBuffer dst) { gather(VkImageStencilUsageCreateInfoEXT.STENCILUSAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkImageStencilUsageCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkImageStencilUsageCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code stencilUsage} field of the structs between the current position and limit. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer putStencilUsage(int[] src) { scatter(VkImageStencilUsageCreateInfoEXT.STENCILUSAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencilUsage} field of the structs between the current position and limit. */
+        public VkImageStencilUsageCreateInfoEXT.Buffer putStencilUsage(IntBuffer src) { scatter(VkImageStencilUsageCreateInfoEXT.STENCILUSAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
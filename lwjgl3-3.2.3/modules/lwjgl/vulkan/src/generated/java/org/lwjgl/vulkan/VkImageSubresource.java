@@ -233,6 +233,24 @@ public class VkImageSubresource extends Struct implements NativeResource {
         return wrap(VkImageSubresource.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageSubresource} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSubresource malloc(MemoryArena arena) {
+        return wrap(VkImageSubresource.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageSubresource} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSubresource calloc(MemoryArena arena) {
+        return wrap(VkImageSubresource.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageSubresource.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkImageSubresource extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageSubresource.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSubresource.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageSubresource.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSubresource.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #aspectMask}. */
@@ -342,6 +380,32 @@ public class VkImageSubresource extends Struct implements NativeResource {
         /** Sets the specified value to the {@code arrayLayer} field. */
         public VkImageSubresource.Buffer arrayLayer(@NativeType("uint32_t") int value) { VkImageSubresource.narrayLayer(address(), value); return this; }
 
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresource.Buffer getAspectMask(int[] dst) { gather(VkImageSubresource.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresource.Buffer getAspectMask(IntBuffer dst) { gather(VkImageSubresource.ASPECTMASK, dst); return this; }
+        /** Copies the {@code mipLevel} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresource.Buffer getMipLevel(int[] dst) { gather(VkImageSubresource.MIPLEVEL, dst); return this; }
+        /** Copies the {@code mipLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresource.Buffer getMipLevel(IntBuffer dst) { gather(VkImageSubresource.MIPLEVEL, dst); return this; }
+        /** Copies the {@code arrayLayer} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresource.Buffer getArrayLayer(int[] dst) { gather(VkImageSubresource.ARRAYLAYER, dst); return this; }
+        /** Copies the {@code arrayLayer} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresource.Buffer getArrayLayer(IntBuffer dst) { gather(VkImageSubresource.ARRAYLAYER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkImageSubresource.Buffer putAspectMask(int[] src) { scatter(VkImageSubresource.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkImageSubresource.Buffer putAspectMask(IntBuffer src) { scatter(VkImageSubresource.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code mipLevel} field of the structs between the current position and limit. */
+        public VkImageSubresource.Buffer putMipLevel(int[] src) { scatter(VkImageSubresource.MIPLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipLevel} field of the structs between the current position and limit. */
+        public VkImageSubresource.Buffer putMipLevel(IntBuffer src) { scatter(VkImageSubresource.MIPLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code arrayLayer} field of the structs between the current position and limit. */
+        public VkImageSubresource.Buffer putArrayLayer(int[] src) { scatter(VkImageSubresource.ARRAYLAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code arrayLayer} field of the structs between the current position and limit. */
+        public VkImageSubresource.Buffer putArrayLayer(IntBuffer src) { scatter(VkImageSubresource.ARRAYLAYER, src); return this; }
+
     }
 
 }
\ No newline at end of file
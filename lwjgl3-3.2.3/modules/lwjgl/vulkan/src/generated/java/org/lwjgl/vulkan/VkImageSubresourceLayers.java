@@ -254,6 +254,24 @@ public class VkImageSubresourceLayers extends Struct implements NativeResource {
         return wrap(VkImageSubresourceLayers.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageSubresourceLayers} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSubresourceLayers malloc(MemoryArena arena) {
+        return wrap(VkImageSubresourceLayers.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageSubresourceLayers} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSubresourceLayers calloc(MemoryArena arena) {
+        return wrap(VkImageSubresourceLayers.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageSubresourceLayers.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class VkImageSubresourceLayers extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageSubresourceLayers.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSubresourceLayers.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageSubresourceLayers.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSubresourceLayers.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #aspectMask}. */
@@ -372,6 +410,40 @@ public class VkImageSubresourceLayers extends Struct implements NativeResource {
         /** Sets the specified value to the {@code layerCount} field. */
         public VkImageSubresourceLayers.Buffer layerCount(@NativeType("uint32_t") int value) { VkImageSubresourceLayers.nlayerCount(address(), value); return this; }
 
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceLayers.Buffer getAspectMask(int[] dst) { gather(VkImageSubresourceLayers.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceLayers.Buffer getAspectMask(IntBuffer dst) { gather(VkImageSubresourceLayers.ASPECTMASK, dst); return this; }
+        /** Copies the {@code mipLevel} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceLayers.Buffer getMipLevel(int[] dst) { gather(VkImageSubresourceLayers.MIPLEVEL, dst); return this; }
+        /** Copies the {@code mipLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceLayers.Buffer getMipLevel(IntBuffer dst) { gather(VkImageSubresourceLayers.MIPLEVEL, dst); return this; }
+        /** Copies the {@code baseArrayLayer} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceLayers.Buffer getBaseArrayLayer(int[] dst) { gather(VkImageSubresourceLayers.BASEARRAYLAYER, dst); return this; }
+        /** Copies the {@code baseArrayLayer} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceLayers.Buffer getBaseArrayLayer(IntBuffer dst) { gather(VkImageSubresourceLayers.BASEARRAYLAYER, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceLayers.Buffer getLayerCount(int[] dst) { gather(VkImageSubresourceLayers.LAYERCOUNT, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceLayers.Buffer getLayerCount(IntBuffer dst) { gather(VkImageSubresourceLayers.LAYERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putAspectMask(int[] src) { scatter(VkImageSubresourceLayers.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putAspectMask(IntBuffer src) { scatter(VkImageSubresourceLayers.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code mipLevel} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putMipLevel(int[] src) { scatter(VkImageSubresourceLayers.MIPLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipLevel} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putMipLevel(IntBuffer src) { scatter(VkImageSubresourceLayers.MIPLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code baseArrayLayer} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putBaseArrayLayer(int[] src) { scatter(VkImageSubresourceLayers.BASEARRAYLAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code baseArrayLayer} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putBaseArrayLayer(IntBuffer src) { scatter(VkImageSubresourceLayers.BASEARRAYLAYER, src); return this; }
+        /** Copies the values in the specified array to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putLayerCount(int[] src) { scatter(VkImageSubresourceLayers.LAYERCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkImageSubresourceLayers.Buffer putLayerCount(IntBuffer src) { scatter(VkImageSubresourceLayers.LAYERCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
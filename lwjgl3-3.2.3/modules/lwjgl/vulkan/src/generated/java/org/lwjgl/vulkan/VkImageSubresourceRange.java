@@ -284,6 +284,24 @@ public class VkImageSubresourceRange extends Struct implements NativeResource {
         return wrap(VkImageSubresourceRange.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageSubresourceRange} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSubresourceRange malloc(MemoryArena arena) {
+        return wrap(VkImageSubresourceRange.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageSubresourceRange} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSubresourceRange calloc(MemoryArena arena) {
+        return wrap(VkImageSubresourceRange.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageSubresourceRange.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -322,6 +340,26 @@ public class VkImageSubresourceRange extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageSubresourceRange.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSubresourceRange.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageSubresourceRange.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSubresourceRange.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #aspectMask}. */
@@ -411,6 +449,48 @@ public class VkImageSubresourceRange extends Struct implements NativeResource {
         /** Sets the specified value to the {@code layerCount} field. */
         public VkImageSubresourceRange.Buffer layerCount(@NativeType("uint32_t") int value) { VkImageSubresourceRange.nlayerCount(address(), value); return this; }
 
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceRange.Buffer getAspectMask(int[] dst) { gather(VkImageSubresourceRange.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceRange.Buffer getAspectMask(IntBuffer dst) { gather(VkImageSubresourceRange.ASPECTMASK, dst); return this; }
+        /** Copies the {@code baseMipLevel} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceRange.Buffer getBaseMipLevel(int[] dst) { gather(VkImageSubresourceRange.BASEMIPLEVEL, dst); return this; }
+        /** Copies the {@code baseMipLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceRange.Buffer getBaseMipLevel(IntBuffer dst) { gather(VkImageSubresourceRange.BASEMIPLEVEL, dst); return this; }
+        /** Copies the {@code levelCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceRange.Buffer getLevelCount(int[] dst) { gather(VkImageSubresourceRange.LEVELCOUNT, dst); return this; }
+        /** Copies the {@code levelCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceRange.Buffer getLevelCount(IntBuffer dst) { gather(VkImageSubresourceRange.LEVELCOUNT, dst); return this; }
+        /** Copies the {@code baseArrayLayer} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceRange.Buffer getBaseArrayLayer(int[] dst) { gather(VkImageSubresourceRange.BASEARRAYLAYER, dst); return this; }
+        /** Copies the {@code baseArrayLayer} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceRange.Buffer getBaseArrayLayer(IntBuffer dst) { gather(VkImageSubresourceRange.BASEARRAYLAYER, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified array. */
+        public VkImageSubresourceRange.Buffer getLayerCount(int[] dst) { gather(VkImageSubresourceRange.LAYERCOUNT, dst); return this; }
+        /** Copies the {@code layerCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSubresourceRange.Buffer getLayerCount(IntBuffer dst) { gather(VkImageSubresourceRange.LAYERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putAspectMask(int[] src) { scatter(VkImageSubresourceRange.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putAspectMask(IntBuffer src) { scatter(VkImageSubresourceRange.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code baseMipLevel} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putBaseMipLevel(int[] src) { scatter(VkImageSubresourceRange.BASEMIPLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code baseMipLevel} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putBaseMipLevel(IntBuffer src) { scatter(VkImageSubresourceRange.BASEMIPLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code levelCount} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putLevelCount(int[] src) { scatter(VkImageSubresourceRange.LEVELCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code levelCount} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putLevelCount(IntBuffer src) { scatter(VkImageSubresourceRange.LEVELCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code baseArrayLayer} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putBaseArrayLayer(int[] src) { scatter(VkImageSubresourceRange.BASEARRAYLAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code baseArrayLayer} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putBaseArrayLayer(IntBuffer src) { scatter(VkImageSubresourceRange.BASEARRAYLAYER, src); return this; }
+        /** Copies the values in the specified array to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putLayerCount(int[] src) { scatter(VkImageSubresourceRange.LAYERCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layerCount} field of the structs between the current position and limit. */
+        public VkImageSubresourceRange.Buffer putLayerCount(IntBuffer src) { scatter(VkImageSubresourceRange.LAYERCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -235,6 +235,24 @@ public class VkImageSwapchainCreateInfoKHR extends Struct implements NativeResou
         return wrap(VkImageSwapchainCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageSwapchainCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSwapchainCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImageSwapchainCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageSwapchainCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageSwapchainCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImageSwapchainCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageSwapchainCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkImageSwapchainCreateInfoKHR extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageSwapchainCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSwapchainCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageSwapchainCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageSwapchainCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -344,6 +382,24 @@ public class VkImageSwapchainCreateInfoKHR extends Struct implements NativeResou
         /** Sets the specified value to the {@code swapchain} field. */
         public VkImageSwapchainCreateInfoKHR.Buffer swapchain(@NativeType("VkSwapchainKHR") long value) { VkImageSwapchainCreateInfoKHR.nswapchain(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageSwapchainCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkImageSwapchainCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSwapchainCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImageSwapchainCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code swapchain} field of the structs between the current position and limit to the specified array. */
+        public VkImageSwapchainCreateInfoKHR.Buffer getSwapchain(long[] dst) { gather(VkImageSwapchainCreateInfoKHR.SWAPCHAIN, dst); return this; }
+        /** Copies the {@code swapchain} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageSwapchainCreateInfoKHR.Buffer getSwapchain(LongBuffer dst) { gather(VkImageSwapchainCreateInfoKHR.SWAPCHAIN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageSwapchainCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkImageSwapchainCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageSwapchainCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImageSwapchainCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code swapchain} field of the structs between the current position and limit. */
+        public VkImageSwapchainCreateInfoKHR.Buffer putSwapchain(long[] src) { scatter(VkImageSwapchainCreateInfoKHR.SWAPCHAIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code swapchain} field of the structs between the current position and limit. */
+        public VkImageSwapchainCreateInfoKHR.Buffer putSwapchain(LongBuffer src) { scatter(VkImageSwapchainCreateInfoKHR.SWAPCHAIN, src); return this; }
+
     }
 
 }
\ No newline at end of file
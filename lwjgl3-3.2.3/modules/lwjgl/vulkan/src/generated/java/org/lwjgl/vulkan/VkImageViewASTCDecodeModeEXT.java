@@ -240,6 +240,24 @@ public class VkImageViewASTCDecodeModeEXT extends Struct implements NativeResour
         return wrap(VkImageViewASTCDecodeModeEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageViewASTCDecodeModeEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewASTCDecodeModeEXT malloc(MemoryArena arena) {
+        return wrap(VkImageViewASTCDecodeModeEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageViewASTCDecodeModeEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewASTCDecodeModeEXT calloc(MemoryArena arena) {
+        return wrap(VkImageViewASTCDecodeModeEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageViewASTCDecodeModeEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class VkImageViewASTCDecodeModeEXT extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageViewASTCDecodeModeEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewASTCDecodeModeEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageViewASTCDecodeModeEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewASTCDecodeModeEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -349,6 +387,24 @@ public class VkImageViewASTCDecodeModeEXT extends Struct implements NativeResour
         /** Sets the specified value to the {@code decodeMode} field. */
         public VkImageViewASTCDecodeModeEXT.Buffer decodeMode(@NativeType("VkFormat") int value) { VkImageViewASTCDecodeModeEXT.ndecodeMode(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewASTCDecodeModeEXT.Buffer getSType(int[] dst) { gather(VkImageViewASTCDecodeModeEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewASTCDecodeModeEXT.Buffer getSType(IntBuffer dst) { gather(VkImageViewASTCDecodeModeEXT.STYPE, dst); return this; }
+        /** Copies the {@code decodeMode} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewASTCDecodeModeEXT.Buffer getDecodeMode(int[] dst) { gather(VkImageViewASTCDecodeModeEXT.DECODEMODE, dst); return this; }
+        /** Copies the {@code decodeMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewASTCDecodeModeEXT.Buffer getDecodeMode(IntBuffer dst) { gather(VkImageViewASTCDecodeModeEXT.DECODEMODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewASTCDecodeModeEXT.Buffer putSType(int[] src) { scatter(VkImageViewASTCDecodeModeEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewASTCDecodeModeEXT.Buffer putSType(IntBuffer src) { scatter(VkImageViewASTCDecodeModeEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code decodeMode} field of the structs between the current position and limit. */
+        public VkImageViewASTCDecodeModeEXT.Buffer putDecodeMode(int[] src) { scatter(VkImageViewASTCDecodeModeEXT.DECODEMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code decodeMode} field of the structs between the current position and limit. */
+        public VkImageViewASTCDecodeModeEXT.Buffer putDecodeMode(IntBuffer src) { scatter(VkImageViewASTCDecodeModeEXT.DECODEMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
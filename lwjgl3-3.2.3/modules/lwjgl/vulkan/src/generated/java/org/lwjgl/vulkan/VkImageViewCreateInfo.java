@@ -382,6 +382,24 @@ public class VkImageViewCreateInfo extends Struct implements NativeResource {
         return wrap(VkImageViewCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageViewCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkImageViewCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageViewCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkImageViewCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageViewCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -420,6 +438,26 @@ public class VkImageViewCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageViewCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageViewCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -538,6 +576,48 @@ public class VkImageViewCreateInfo extends Struct implements NativeResource {
         /** Passes the {@code subresourceRange} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkImageViewCreateInfo.Buffer subresourceRange(java.util.function.Consumer<VkImageSubresourceRange> consumer) { consumer.accept(subresourceRange()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewCreateInfo.Buffer getSType(int[] dst) { gather(VkImageViewCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkImageViewCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewCreateInfo.Buffer getFlags(int[] dst) { gather(VkImageViewCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkImageViewCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewCreateInfo.Buffer getImage(long[] dst) { gather(VkImageViewCreateInfo.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewCreateInfo.Buffer getImage(LongBuffer dst) { gather(VkImageViewCreateInfo.IMAGE, dst); return this; }
+        /** Copies the {@code viewType} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewCreateInfo.Buffer getViewType(int[] dst) { gather(VkImageViewCreateInfo.VIEWTYPE, dst); return this; }
+        /** Copies the {@code viewType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewCreateInfo.Buffer getViewType(IntBuffer dst) { gather(VkImageViewCreateInfo.VIEWTYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewCreateInfo.Buffer getFormat(int[] dst) { gather(VkImageViewCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewCreateInfo.Buffer getFormat(IntBuffer dst) { gather(VkImageViewCreateInfo.FORMAT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putSType(int[] src) { scatter(VkImageViewCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkImageViewCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putFlags(int[] src) { scatter(VkImageViewCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkImageViewCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putImage(long[] src) { scatter(VkImageViewCreateInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putImage(LongBuffer src) { scatter(VkImageViewCreateInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code viewType} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putViewType(int[] src) { scatter(VkImageViewCreateInfo.VIEWTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code viewType} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putViewType(IntBuffer src) { scatter(VkImageViewCreateInfo.VIEWTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putFormat(int[] src) { scatter(VkImageViewCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkImageViewCreateInfo.Buffer putFormat(IntBuffer src) { scatter(VkImageViewCreateInfo.FORMAT, src); return this; }
+
     }
 
 }
\ No newline at end of file
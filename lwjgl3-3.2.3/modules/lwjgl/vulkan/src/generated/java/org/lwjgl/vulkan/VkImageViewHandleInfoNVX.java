@@ -270,6 +270,24 @@ public class VkImageViewHandleInfoNVX extends Struct implements NativeResource {
         return wrap(VkImageViewHandleInfoNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageViewHandleInfoNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewHandleInfoNVX malloc(MemoryArena arena) {
+        return wrap(VkImageViewHandleInfoNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageViewHandleInfoNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewHandleInfoNVX calloc(MemoryArena arena) {
+        return wrap(VkImageViewHandleInfoNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageViewHandleInfoNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -308,6 +326,26 @@ public class VkImageViewHandleInfoNVX extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageViewHandleInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewHandleInfoNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageViewHandleInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewHandleInfoNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -397,6 +435,40 @@ public class VkImageViewHandleInfoNVX extends Struct implements NativeResource {
         /** Sets the specified value to the {@code sampler} field. */
         public VkImageViewHandleInfoNVX.Buffer sampler(@NativeType("VkSampler") long value) { VkImageViewHandleInfoNVX.nsampler(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewHandleInfoNVX.Buffer getSType(int[] dst) { gather(VkImageViewHandleInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewHandleInfoNVX.Buffer getSType(IntBuffer dst) { gather(VkImageViewHandleInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code imageView} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewHandleInfoNVX.Buffer getImageView(long[] dst) { gather(VkImageViewHandleInfoNVX.IMAGEVIEW, dst); return this; }
+        /** Copies the {@code imageView} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewHandleInfoNVX.Buffer getImageView(LongBuffer dst) { gather(VkImageViewHandleInfoNVX.IMAGEVIEW, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewHandleInfoNVX.Buffer getDescriptorType(int[] dst) { gather(VkImageViewHandleInfoNVX.DESCRIPTORTYPE, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewHandleInfoNVX.Buffer getDescriptorType(IntBuffer dst) { gather(VkImageViewHandleInfoNVX.DESCRIPTORTYPE, dst); return this; }
+        /** Copies the {@code sampler} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewHandleInfoNVX.Buffer getSampler(long[] dst) { gather(VkImageViewHandleInfoNVX.SAMPLER, dst); return this; }
+        /** Copies the {@code sampler} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewHandleInfoNVX.Buffer getSampler(LongBuffer dst) { gather(VkImageViewHandleInfoNVX.SAMPLER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putSType(int[] src) { scatter(VkImageViewHandleInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putSType(IntBuffer src) { scatter(VkImageViewHandleInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code imageView} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putImageView(long[] src) { scatter(VkImageViewHandleInfoNVX.IMAGEVIEW, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageView} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putImageView(LongBuffer src) { scatter(VkImageViewHandleInfoNVX.IMAGEVIEW, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putDescriptorType(int[] src) { scatter(VkImageViewHandleInfoNVX.DESCRIPTORTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putDescriptorType(IntBuffer src) { scatter(VkImageViewHandleInfoNVX.DESCRIPTORTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code sampler} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putSampler(long[] src) { scatter(VkImageViewHandleInfoNVX.SAMPLER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sampler} field of the structs between the current position and limit. */
+        public VkImageViewHandleInfoNVX.Buffer putSampler(LongBuffer src) { scatter(VkImageViewHandleInfoNVX.SAMPLER, src); return this; }
+
     }
 
 }
\ No newline at end of file
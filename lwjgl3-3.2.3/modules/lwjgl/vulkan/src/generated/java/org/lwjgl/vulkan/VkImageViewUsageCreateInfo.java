@@ -234,6 +234,24 @@ public class VkImageViewUsageCreateInfo extends Struct implements NativeResource
         return wrap(VkImageViewUsageCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImageViewUsageCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewUsageCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkImageViewUsageCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImageViewUsageCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImageViewUsageCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkImageViewUsageCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImageViewUsageCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkImageViewUsageCreateInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImageViewUsageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewUsageCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImageViewUsageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImageViewUsageCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkImageViewUsageCreateInfo extends Struct implements NativeResource
         /** Sets the specified value to the {@code usage} field. */
         public VkImageViewUsageCreateInfo.Buffer usage(@NativeType("VkImageUsageFlags") int value) { VkImageViewUsageCreateInfo.nusage(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewUsageCreateInfo.Buffer getSType(int[] dst) { gather(VkImageViewUsageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewUsageCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkImageViewUsageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkImageViewUsageCreateInfo.Buffer getUsage(int[] dst) { gather(VkImageViewUsageCreateInfo.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkImageViewUsageCreateInfo.Buffer getUsage(IntBuffer dst) { gather(VkImageViewUsageCreateInfo.USAGE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewUsageCreateInfo.Buffer putSType(int[] src) { scatter(VkImageViewUsageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImageViewUsageCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkImageViewUsageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkImageViewUsageCreateInfo.Buffer putUsage(int[] src) { scatter(VkImageViewUsageCreateInfo.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkImageViewUsageCreateInfo.Buffer putUsage(IntBuffer src) { scatter(VkImageViewUsageCreateInfo.USAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -305,6 +305,24 @@ public class VkImportFenceFdInfoKHR extends Struct implements NativeResource {
         return wrap(VkImportFenceFdInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportFenceFdInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportFenceFdInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImportFenceFdInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportFenceFdInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportFenceFdInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImportFenceFdInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportFenceFdInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -343,6 +361,26 @@ public class VkImportFenceFdInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportFenceFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportFenceFdInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportFenceFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportFenceFdInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -440,6 +478,48 @@ public class VkImportFenceFdInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code fd} field. */
         public VkImportFenceFdInfoKHR.Buffer fd(int value) { VkImportFenceFdInfoKHR.nfd(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceFdInfoKHR.Buffer getSType(int[] dst) { gather(VkImportFenceFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceFdInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImportFenceFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceFdInfoKHR.Buffer getFence(long[] dst) { gather(VkImportFenceFdInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceFdInfoKHR.Buffer getFence(LongBuffer dst) { gather(VkImportFenceFdInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceFdInfoKHR.Buffer getFlags(int[] dst) { gather(VkImportFenceFdInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceFdInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkImportFenceFdInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceFdInfoKHR.Buffer getHandleType(int[] dst) { gather(VkImportFenceFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceFdInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkImportFenceFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code fd} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceFdInfoKHR.Buffer getFd(int[] dst) { gather(VkImportFenceFdInfoKHR.FD, dst); return this; }
+        /** Copies the {@code fd} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceFdInfoKHR.Buffer getFd(IntBuffer dst) { gather(VkImportFenceFdInfoKHR.FD, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putSType(int[] src) { scatter(VkImportFenceFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImportFenceFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fence} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putFence(long[] src) { scatter(VkImportFenceFdInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fence} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putFence(LongBuffer src) { scatter(VkImportFenceFdInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putFlags(int[] src) { scatter(VkImportFenceFdInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkImportFenceFdInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putHandleType(int[] src) { scatter(VkImportFenceFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkImportFenceFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fd} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putFd(int[] src) { scatter(VkImportFenceFdInfoKHR.FD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fd} field of the structs between the current position and limit. */
+        public VkImportFenceFdInfoKHR.Buffer putFd(IntBuffer src) { scatter(VkImportFenceFdInfoKHR.FD, src); return this; }
+
     }
 
 }
\ No newline at end of file
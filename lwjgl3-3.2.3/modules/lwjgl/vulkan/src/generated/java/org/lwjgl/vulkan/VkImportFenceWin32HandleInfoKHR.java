@@ -322,6 +322,24 @@ public class VkImportFenceWin32HandleInfoKHR extends Struct implements NativeRes
         return wrap(VkImportFenceWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportFenceWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportFenceWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImportFenceWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportFenceWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportFenceWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImportFenceWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportFenceWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -360,6 +378,26 @@ public class VkImportFenceWin32HandleInfoKHR extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportFenceWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportFenceWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportFenceWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportFenceWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -497,6 +535,40 @@ public class VkImportFenceWin32HandleInfoKHR extends Struct implements NativeRes
         /** Sets the address of the specified encoded string to the {@code name} field. */
         public VkImportFenceWin32HandleInfoKHR.Buffer name(@NativeType("LPCWSTR") ByteBuffer value) { VkImportFenceWin32HandleInfoKHR.nname(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkImportFenceWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImportFenceWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getFence(long[] dst) { gather(VkImportFenceWin32HandleInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code fence} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getFence(LongBuffer dst) { gather(VkImportFenceWin32HandleInfoKHR.FENCE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getFlags(int[] dst) { gather(VkImportFenceWin32HandleInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkImportFenceWin32HandleInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getHandleType(int[] dst) { gather(VkImportFenceWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkImportFenceWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkImportFenceWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImportFenceWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fence} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putFence(long[] src) { scatter(VkImportFenceWin32HandleInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fence} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putFence(LongBuffer src) { scatter(VkImportFenceWin32HandleInfoKHR.FENCE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putFlags(int[] src) { scatter(VkImportFenceWin32HandleInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkImportFenceWin32HandleInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putHandleType(int[] src) { scatter(VkImportFenceWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportFenceWin32HandleInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkImportFenceWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
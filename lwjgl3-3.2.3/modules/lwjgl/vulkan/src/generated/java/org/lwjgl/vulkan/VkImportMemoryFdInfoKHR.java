@@ -257,6 +257,24 @@ public class VkImportMemoryFdInfoKHR extends Struct implements NativeResource {
         return wrap(VkImportMemoryFdInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportMemoryFdInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryFdInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImportMemoryFdInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportMemoryFdInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryFdInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImportMemoryFdInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportMemoryFdInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -295,6 +313,26 @@ public class VkImportMemoryFdInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportMemoryFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryFdInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportMemoryFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryFdInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -374,6 +412,32 @@ public class VkImportMemoryFdInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code fd} field. */
         public VkImportMemoryFdInfoKHR.Buffer fd(int value) { VkImportMemoryFdInfoKHR.nfd(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryFdInfoKHR.Buffer getSType(int[] dst) { gather(VkImportMemoryFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryFdInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImportMemoryFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryFdInfoKHR.Buffer getHandleType(int[] dst) { gather(VkImportMemoryFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryFdInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkImportMemoryFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code fd} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryFdInfoKHR.Buffer getFd(int[] dst) { gather(VkImportMemoryFdInfoKHR.FD, dst); return this; }
+        /** Copies the {@code fd} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryFdInfoKHR.Buffer getFd(IntBuffer dst) { gather(VkImportMemoryFdInfoKHR.FD, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryFdInfoKHR.Buffer putSType(int[] src) { scatter(VkImportMemoryFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryFdInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImportMemoryFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryFdInfoKHR.Buffer putHandleType(int[] src) { scatter(VkImportMemoryFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryFdInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkImportMemoryFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fd} field of the structs between the current position and limit. */
+        public VkImportMemoryFdInfoKHR.Buffer putFd(int[] src) { scatter(VkImportMemoryFdInfoKHR.FD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fd} field of the structs between the current position and limit. */
+        public VkImportMemoryFdInfoKHR.Buffer putFd(IntBuffer src) { scatter(VkImportMemoryFdInfoKHR.FD, src); return this; }
+
     }
 
 }
\ No newline at end of file
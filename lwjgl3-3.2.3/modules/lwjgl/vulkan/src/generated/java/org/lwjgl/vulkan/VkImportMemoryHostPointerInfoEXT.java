@@ -261,6 +261,24 @@ public class VkImportMemoryHostPointerInfoEXT extends Struct implements NativeRe
         return wrap(VkImportMemoryHostPointerInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportMemoryHostPointerInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryHostPointerInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkImportMemoryHostPointerInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportMemoryHostPointerInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryHostPointerInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkImportMemoryHostPointerInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportMemoryHostPointerInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkImportMemoryHostPointerInfoEXT extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportMemoryHostPointerInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryHostPointerInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportMemoryHostPointerInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryHostPointerInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -379,6 +417,24 @@ public class VkImportMemoryHostPointerInfoEXT extends Struct implements NativeRe
         /** Sets the specified value to the {@code pHostPointer} field. */
         public VkImportMemoryHostPointerInfoEXT.Buffer pHostPointer(@NativeType("void *") long value) { VkImportMemoryHostPointerInfoEXT.npHostPointer(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer getSType(int[] dst) { gather(VkImportMemoryHostPointerInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkImportMemoryHostPointerInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer getHandleType(int[] dst) { gather(VkImportMemoryHostPointerInfoEXT.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer getHandleType(IntBuffer dst) { gather(VkImportMemoryHostPointerInfoEXT.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer putSType(int[] src) { scatter(VkImportMemoryHostPointerInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkImportMemoryHostPointerInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer putHandleType(int[] src) { scatter(VkImportMemoryHostPointerInfoEXT.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryHostPointerInfoEXT.Buffer putHandleType(IntBuffer src) { scatter(VkImportMemoryHostPointerInfoEXT.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
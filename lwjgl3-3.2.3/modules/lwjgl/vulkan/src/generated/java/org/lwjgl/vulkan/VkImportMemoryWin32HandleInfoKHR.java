@@ -279,6 +279,24 @@ public class VkImportMemoryWin32HandleInfoKHR extends Struct implements NativeRe
         return wrap(VkImportMemoryWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportMemoryWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImportMemoryWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportMemoryWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImportMemoryWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportMemoryWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -317,6 +335,26 @@ public class VkImportMemoryWin32HandleInfoKHR extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportMemoryWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportMemoryWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -436,6 +474,24 @@ public class VkImportMemoryWin32HandleInfoKHR extends Struct implements NativeRe
         /** Sets the address of the specified encoded string to the {@code name} field. */
         public VkImportMemoryWin32HandleInfoKHR.Buffer name(@NativeType("LPCWSTR") ByteBuffer value) { VkImportMemoryWin32HandleInfoKHR.nname(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkImportMemoryWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImportMemoryWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer getHandleType(int[] dst) { gather(VkImportMemoryWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkImportMemoryWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkImportMemoryWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImportMemoryWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer putHandleType(int[] src) { scatter(VkImportMemoryWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkImportMemoryWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
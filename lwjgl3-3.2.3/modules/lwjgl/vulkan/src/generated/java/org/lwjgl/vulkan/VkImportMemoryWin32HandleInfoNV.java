@@ -255,6 +255,24 @@ public class VkImportMemoryWin32HandleInfoNV extends Struct implements NativeRes
         return wrap(VkImportMemoryWin32HandleInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportMemoryWin32HandleInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoNV malloc(MemoryArena arena) {
+        return wrap(VkImportMemoryWin32HandleInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportMemoryWin32HandleInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoNV calloc(MemoryArena arena) {
+        return wrap(VkImportMemoryWin32HandleInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportMemoryWin32HandleInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -293,6 +311,26 @@ public class VkImportMemoryWin32HandleInfoNV extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportMemoryWin32HandleInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportMemoryWin32HandleInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportMemoryWin32HandleInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -394,6 +432,24 @@ public class VkImportMemoryWin32HandleInfoNV extends Struct implements NativeRes
         /** Sets the specified value to the {@code handle} field. */
         public VkImportMemoryWin32HandleInfoNV.Buffer handle(@NativeType("HANDLE") long value) { VkImportMemoryWin32HandleInfoNV.nhandle(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer getSType(int[] dst) { gather(VkImportMemoryWin32HandleInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer getSType(IntBuffer dst) { gather(VkImportMemoryWin32HandleInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer getHandleType(int[] dst) { gather(VkImportMemoryWin32HandleInfoNV.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer getHandleType(IntBuffer dst) { gather(VkImportMemoryWin32HandleInfoNV.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer putSType(int[] src) { scatter(VkImportMemoryWin32HandleInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer putSType(IntBuffer src) { scatter(VkImportMemoryWin32HandleInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer putHandleType(int[] src) { scatter(VkImportMemoryWin32HandleInfoNV.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportMemoryWin32HandleInfoNV.Buffer putHandleType(IntBuffer src) { scatter(VkImportMemoryWin32HandleInfoNV.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
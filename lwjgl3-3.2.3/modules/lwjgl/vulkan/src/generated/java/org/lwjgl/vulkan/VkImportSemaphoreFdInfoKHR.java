@@ -298,6 +298,24 @@ public class VkImportSemaphoreFdInfoKHR extends Struct implements NativeResource
         return wrap(VkImportSemaphoreFdInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportSemaphoreFdInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportSemaphoreFdInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImportSemaphoreFdInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportSemaphoreFdInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportSemaphoreFdInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImportSemaphoreFdInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportSemaphoreFdInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -336,6 +354,26 @@ public class VkImportSemaphoreFdInfoKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportSemaphoreFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportSemaphoreFdInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportSemaphoreFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportSemaphoreFdInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -433,6 +471,48 @@ public class VkImportSemaphoreFdInfoKHR extends Struct implements NativeResource
         /** Sets the specified value to the {@code fd} field. */
         public VkImportSemaphoreFdInfoKHR.Buffer fd(int value) { VkImportSemaphoreFdInfoKHR.nfd(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getSType(int[] dst) { gather(VkImportSemaphoreFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImportSemaphoreFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getSemaphore(long[] dst) { gather(VkImportSemaphoreFdInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getSemaphore(LongBuffer dst) { gather(VkImportSemaphoreFdInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getFlags(int[] dst) { gather(VkImportSemaphoreFdInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkImportSemaphoreFdInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getHandleType(int[] dst) { gather(VkImportSemaphoreFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkImportSemaphoreFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code fd} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getFd(int[] dst) { gather(VkImportSemaphoreFdInfoKHR.FD, dst); return this; }
+        /** Copies the {@code fd} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreFdInfoKHR.Buffer getFd(IntBuffer dst) { gather(VkImportSemaphoreFdInfoKHR.FD, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putSType(int[] src) { scatter(VkImportSemaphoreFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImportSemaphoreFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putSemaphore(long[] src) { scatter(VkImportSemaphoreFdInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putSemaphore(LongBuffer src) { scatter(VkImportSemaphoreFdInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putFlags(int[] src) { scatter(VkImportSemaphoreFdInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkImportSemaphoreFdInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putHandleType(int[] src) { scatter(VkImportSemaphoreFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkImportSemaphoreFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fd} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putFd(int[] src) { scatter(VkImportSemaphoreFdInfoKHR.FD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fd} field of the structs between the current position and limit. */
+        public VkImportSemaphoreFdInfoKHR.Buffer putFd(IntBuffer src) { scatter(VkImportSemaphoreFdInfoKHR.FD, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -323,6 +323,24 @@ public class VkImportSemaphoreWin32HandleInfoKHR extends Struct implements Nativ
         return wrap(VkImportSemaphoreWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkImportSemaphoreWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportSemaphoreWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkImportSemaphoreWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkImportSemaphoreWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkImportSemaphoreWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkImportSemaphoreWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkImportSemaphoreWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -361,6 +379,26 @@ public class VkImportSemaphoreWin32HandleInfoKHR extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkImportSemaphoreWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportSemaphoreWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkImportSemaphoreWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkImportSemaphoreWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -498,6 +536,40 @@ public class VkImportSemaphoreWin32HandleInfoKHR extends Struct implements Nativ
         /** Sets the address of the specified encoded string to the {@code name} field. */
         public VkImportSemaphoreWin32HandleInfoKHR.Buffer name(@NativeType("LPCWSTR") ByteBuffer value) { VkImportSemaphoreWin32HandleInfoKHR.nname(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getSemaphore(long[] dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getSemaphore(LongBuffer dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getFlags(int[] dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getHandleType(int[] dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkImportSemaphoreWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putSemaphore(long[] src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putSemaphore(LongBuffer src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putFlags(int[] src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putHandleType(int[] src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkImportSemaphoreWin32HandleInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkImportSemaphoreWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
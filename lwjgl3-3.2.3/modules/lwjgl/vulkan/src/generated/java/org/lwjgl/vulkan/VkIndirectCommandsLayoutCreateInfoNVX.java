@@ -303,6 +303,24 @@ public class VkIndirectCommandsLayoutCreateInfoNVX extends Struct implements Nat
         return wrap(VkIndirectCommandsLayoutCreateInfoNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkIndirectCommandsLayoutCreateInfoNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutCreateInfoNVX malloc(MemoryArena arena) {
+        return wrap(VkIndirectCommandsLayoutCreateInfoNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkIndirectCommandsLayoutCreateInfoNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutCreateInfoNVX calloc(MemoryArena arena) {
+        return wrap(VkIndirectCommandsLayoutCreateInfoNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkIndirectCommandsLayoutCreateInfoNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -341,6 +359,26 @@ public class VkIndirectCommandsLayoutCreateInfoNVX extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkIndirectCommandsLayoutCreateInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutCreateInfoNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkIndirectCommandsLayoutCreateInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutCreateInfoNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -458,6 +496,36 @@ public class VkIndirectCommandsLayoutCreateInfoNVX extends Struct implements Nat
         /** Sets the address of the specified {@link VkIndirectCommandsLayoutTokenNVX.Buffer} to the {@code pTokens} field. */
         public VkIndirectCommandsLayoutCreateInfoNVX.Buffer pTokens(@NativeType("VkIndirectCommandsLayoutTokenNVX const *") VkIndirectCommandsLayoutTokenNVX.Buffer value) { VkIndirectCommandsLayoutCreateInfoNVX.npTokens(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getSType(int[] dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getSType(IntBuffer dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getPipelineBindPoint(int[] dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getPipelineBindPoint(IntBuffer dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getFlags(int[] dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getFlags(IntBuffer dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.FLAGS, dst); return this; }
+        /** Copies the {@code tokenCount} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getTokenCount(int[] dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.TOKENCOUNT, dst); return this; }
+        /** Copies the {@code tokenCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer getTokenCount(IntBuffer dst) { gather(VkIndirectCommandsLayoutCreateInfoNVX.TOKENCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer putSType(int[] src) { scatter(VkIndirectCommandsLayoutCreateInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer putSType(IntBuffer src) { scatter(VkIndirectCommandsLayoutCreateInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer putPipelineBindPoint(int[] src) { scatter(VkIndirectCommandsLayoutCreateInfoNVX.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer putPipelineBindPoint(IntBuffer src) { scatter(VkIndirectCommandsLayoutCreateInfoNVX.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer putFlags(int[] src) { scatter(VkIndirectCommandsLayoutCreateInfoNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutCreateInfoNVX.Buffer putFlags(IntBuffer src) { scatter(VkIndirectCommandsLayoutCreateInfoNVX.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
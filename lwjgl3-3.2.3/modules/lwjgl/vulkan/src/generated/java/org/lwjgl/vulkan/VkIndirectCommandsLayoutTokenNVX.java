@@ -251,6 +251,24 @@ public class VkIndirectCommandsLayoutTokenNVX extends Struct implements NativeRe
         return wrap(VkIndirectCommandsLayoutTokenNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkIndirectCommandsLayoutTokenNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutTokenNVX malloc(MemoryArena arena) {
+        return wrap(VkIndirectCommandsLayoutTokenNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkIndirectCommandsLayoutTokenNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutTokenNVX calloc(MemoryArena arena) {
+        return wrap(VkIndirectCommandsLayoutTokenNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkIndirectCommandsLayoutTokenNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -289,6 +307,26 @@ public class VkIndirectCommandsLayoutTokenNVX extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkIndirectCommandsLayoutTokenNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutTokenNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkIndirectCommandsLayoutTokenNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkIndirectCommandsLayoutTokenNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #tokenType}. */
@@ -369,6 +407,40 @@ public class VkIndirectCommandsLayoutTokenNVX extends Struct implements NativeRe
         /** Sets the specified value to the {@code divisor} field. */
         public VkIndirectCommandsLayoutTokenNVX.Buffer divisor(@NativeType("uint32_t") int value) { VkIndirectCommandsLayoutTokenNVX.ndivisor(address(), value); return this; }
 
+        /** Copies the {@code tokenType} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getTokenType(int[] dst) { gather(VkIndirectCommandsLayoutTokenNVX.TOKENTYPE, dst); return this; }
+        /** Copies the {@code tokenType} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getTokenType(IntBuffer dst) { gather(VkIndirectCommandsLayoutTokenNVX.TOKENTYPE, dst); return this; }
+        /** Copies the {@code bindingUnit} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getBindingUnit(int[] dst) { gather(VkIndirectCommandsLayoutTokenNVX.BINDINGUNIT, dst); return this; }
+        /** Copies the {@code bindingUnit} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getBindingUnit(IntBuffer dst) { gather(VkIndirectCommandsLayoutTokenNVX.BINDINGUNIT, dst); return this; }
+        /** Copies the {@code dynamicCount} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getDynamicCount(int[] dst) { gather(VkIndirectCommandsLayoutTokenNVX.DYNAMICCOUNT, dst); return this; }
+        /** Copies the {@code dynamicCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getDynamicCount(IntBuffer dst) { gather(VkIndirectCommandsLayoutTokenNVX.DYNAMICCOUNT, dst); return this; }
+        /** Copies the {@code divisor} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getDivisor(int[] dst) { gather(VkIndirectCommandsLayoutTokenNVX.DIVISOR, dst); return this; }
+        /** Copies the {@code divisor} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer getDivisor(IntBuffer dst) { gather(VkIndirectCommandsLayoutTokenNVX.DIVISOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code tokenType} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putTokenType(int[] src) { scatter(VkIndirectCommandsLayoutTokenNVX.TOKENTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tokenType} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putTokenType(IntBuffer src) { scatter(VkIndirectCommandsLayoutTokenNVX.TOKENTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code bindingUnit} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putBindingUnit(int[] src) { scatter(VkIndirectCommandsLayoutTokenNVX.BINDINGUNIT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code bindingUnit} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putBindingUnit(IntBuffer src) { scatter(VkIndirectCommandsLayoutTokenNVX.BINDINGUNIT, src); return this; }
+        /** Copies the values in the specified array to the {@code dynamicCount} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putDynamicCount(int[] src) { scatter(VkIndirectCommandsLayoutTokenNVX.DYNAMICCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dynamicCount} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putDynamicCount(IntBuffer src) { scatter(VkIndirectCommandsLayoutTokenNVX.DYNAMICCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code divisor} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putDivisor(int[] src) { scatter(VkIndirectCommandsLayoutTokenNVX.DIVISOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code divisor} field of the structs between the current position and limit. */
+        public VkIndirectCommandsLayoutTokenNVX.Buffer putDivisor(IntBuffer src) { scatter(VkIndirectCommandsLayoutTokenNVX.DIVISOR, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -240,6 +240,24 @@ public class VkIndirectCommandsTokenNVX extends Struct implements NativeResource
         return wrap(VkIndirectCommandsTokenNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkIndirectCommandsTokenNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkIndirectCommandsTokenNVX malloc(MemoryArena arena) {
+        return wrap(VkIndirectCommandsTokenNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkIndirectCommandsTokenNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkIndirectCommandsTokenNVX calloc(MemoryArena arena) {
+        return wrap(VkIndirectCommandsTokenNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkIndirectCommandsTokenNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class VkIndirectCommandsTokenNVX extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkIndirectCommandsTokenNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkIndirectCommandsTokenNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkIndirectCommandsTokenNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkIndirectCommandsTokenNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #tokenType}. */
@@ -349,6 +387,32 @@ public class VkIndirectCommandsTokenNVX extends Struct implements NativeResource
         /** Sets the specified value to the {@code offset} field. */
         public VkIndirectCommandsTokenNVX.Buffer offset(@NativeType("VkDeviceSize") long value) { VkIndirectCommandsTokenNVX.noffset(address(), value); return this; }
 
+        /** Copies the {@code tokenType} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsTokenNVX.Buffer getTokenType(int[] dst) { gather(VkIndirectCommandsTokenNVX.TOKENTYPE, dst); return this; }
+        /** Copies the {@code tokenType} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsTokenNVX.Buffer getTokenType(IntBuffer dst) { gather(VkIndirectCommandsTokenNVX.TOKENTYPE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsTokenNVX.Buffer getBuffer(long[] dst) { gather(VkIndirectCommandsTokenNVX.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsTokenNVX.Buffer getBuffer(LongBuffer dst) { gather(VkIndirectCommandsTokenNVX.BUFFER, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkIndirectCommandsTokenNVX.Buffer getOffset(long[] dst) { gather(VkIndirectCommandsTokenNVX.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkIndirectCommandsTokenNVX.Buffer getOffset(LongBuffer dst) { gather(VkIndirectCommandsTokenNVX.OFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code tokenType} field of the structs between the current position and limit. */
+        public VkIndirectCommandsTokenNVX.Buffer putTokenType(int[] src) { scatter(VkIndirectCommandsTokenNVX.TOKENTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tokenType} field of the structs between the current position and limit. */
+        public VkIndirectCommandsTokenNVX.Buffer putTokenType(IntBuffer src) { scatter(VkIndirectCommandsTokenNVX.TOKENTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkIndirectCommandsTokenNVX.Buffer putBuffer(long[] src) { scatter(VkIndirectCommandsTokenNVX.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkIndirectCommandsTokenNVX.Buffer putBuffer(LongBuffer src) { scatter(VkIndirectCommandsTokenNVX.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkIndirectCommandsTokenNVX.Buffer putOffset(long[] src) { scatter(VkIndirectCommandsTokenNVX.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkIndirectCommandsTokenNVX.Buffer putOffset(LongBuffer src) { scatter(VkIndirectCommandsTokenNVX.OFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
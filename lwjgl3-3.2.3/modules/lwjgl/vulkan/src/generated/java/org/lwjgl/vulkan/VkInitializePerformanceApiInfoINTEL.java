@@ -233,6 +233,24 @@ public class VkInitializePerformanceApiInfoINTEL extends Struct implements Nativ
         return wrap(VkInitializePerformanceApiInfoINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkInitializePerformanceApiInfoINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkInitializePerformanceApiInfoINTEL malloc(MemoryArena arena) {
+        return wrap(VkInitializePerformanceApiInfoINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkInitializePerformanceApiInfoINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkInitializePerformanceApiInfoINTEL calloc(MemoryArena arena) {
+        return wrap(VkInitializePerformanceApiInfoINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkInitializePerformanceApiInfoINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkInitializePerformanceApiInfoINTEL extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkInitializePerformanceApiInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkInitializePerformanceApiInfoINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkInitializePerformanceApiInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkInitializePerformanceApiInfoINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,16 @@ public class VkInitializePerformanceApiInfoINTEL extends Struct implements Nativ
         /** Sets the specified value to the {@code pUserData} field. */
         public VkInitializePerformanceApiInfoINTEL.Buffer pUserData(@NativeType("void *") long value) { VkInitializePerformanceApiInfoINTEL.npUserData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkInitializePerformanceApiInfoINTEL.Buffer getSType(int[] dst) { gather(VkInitializePerformanceApiInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkInitializePerformanceApiInfoINTEL.Buffer getSType(IntBuffer dst) { gather(VkInitializePerformanceApiInfoINTEL.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkInitializePerformanceApiInfoINTEL.Buffer putSType(int[] src) { scatter(VkInitializePerformanceApiInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkInitializePerformanceApiInfoINTEL.Buffer putSType(IntBuffer src) { scatter(VkInitializePerformanceApiInfoINTEL.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -240,6 +240,24 @@ public class VkInputAttachmentAspectReference extends Struct implements NativeRe
         return wrap(VkInputAttachmentAspectReference.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkInputAttachmentAspectReference} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkInputAttachmentAspectReference malloc(MemoryArena arena) {
+        return wrap(VkInputAttachmentAspectReference.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkInputAttachmentAspectReference} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkInputAttachmentAspectReference calloc(MemoryArena arena) {
+        return wrap(VkInputAttachmentAspectReference.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkInputAttachmentAspectReference.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class VkInputAttachmentAspectReference extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkInputAttachmentAspectReference.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkInputAttachmentAspectReference.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkInputAttachmentAspectReference.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkInputAttachmentAspectReference.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #subpass}. */
@@ -349,6 +387,32 @@ public class VkInputAttachmentAspectReference extends Struct implements NativeRe
         /** Sets the specified value to the {@code aspectMask} field. */
         public VkInputAttachmentAspectReference.Buffer aspectMask(@NativeType("VkImageAspectFlags") int value) { VkInputAttachmentAspectReference.naspectMask(address(), value); return this; }
 
+        /** Copies the {@code subpass} field of the structs between the current position and limit to the specified array. */
+        public VkInputAttachmentAspectReference.Buffer getSubpass(int[] dst) { gather(VkInputAttachmentAspectReference.SUBPASS, dst); return this; }
+        /** Copies the {@code subpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkInputAttachmentAspectReference.Buffer getSubpass(IntBuffer dst) { gather(VkInputAttachmentAspectReference.SUBPASS, dst); return this; }
+        /** Copies the {@code inputAttachmentIndex} field of the structs between the current position and limit to the specified array. */
+        public VkInputAttachmentAspectReference.Buffer getInputAttachmentIndex(int[] dst) { gather(VkInputAttachmentAspectReference.INPUTATTACHMENTINDEX, dst); return this; }
+        /** Copies the {@code inputAttachmentIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkInputAttachmentAspectReference.Buffer getInputAttachmentIndex(IntBuffer dst) { gather(VkInputAttachmentAspectReference.INPUTATTACHMENTINDEX, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkInputAttachmentAspectReference.Buffer getAspectMask(int[] dst) { gather(VkInputAttachmentAspectReference.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkInputAttachmentAspectReference.Buffer getAspectMask(IntBuffer dst) { gather(VkInputAttachmentAspectReference.ASPECTMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code subpass} field of the structs between the current position and limit. */
+        public VkInputAttachmentAspectReference.Buffer putSubpass(int[] src) { scatter(VkInputAttachmentAspectReference.SUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code subpass} field of the structs between the current position and limit. */
+        public VkInputAttachmentAspectReference.Buffer putSubpass(IntBuffer src) { scatter(VkInputAttachmentAspectReference.SUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code inputAttachmentIndex} field of the structs between the current position and limit. */
+        public VkInputAttachmentAspectReference.Buffer putInputAttachmentIndex(int[] src) { scatter(VkInputAttachmentAspectReference.INPUTATTACHMENTINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code inputAttachmentIndex} field of the structs between the current position and limit. */
+        public VkInputAttachmentAspectReference.Buffer putInputAttachmentIndex(IntBuffer src) { scatter(VkInputAttachmentAspectReference.INPUTATTACHMENTINDEX, src); return this; }
+        /** Copies the values in the specified array to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkInputAttachmentAspectReference.Buffer putAspectMask(int[] src) { scatter(VkInputAttachmentAspectReference.ASPECTMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code aspectMask} field of the structs between the current position and limit. */
+        public VkInputAttachmentAspectReference.Buffer putAspectMask(IntBuffer src) { scatter(VkInputAttachmentAspectReference.ASPECTMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
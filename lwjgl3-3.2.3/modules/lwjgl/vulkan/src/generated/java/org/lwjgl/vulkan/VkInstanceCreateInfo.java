@@ -294,6 +294,24 @@ public class VkInstanceCreateInfo extends Struct implements NativeResource {
         return wrap(VkInstanceCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkInstanceCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkInstanceCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkInstanceCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkInstanceCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkInstanceCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkInstanceCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkInstanceCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -332,6 +350,26 @@ public class VkInstanceCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkInstanceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkInstanceCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkInstanceCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkInstanceCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -473,6 +511,32 @@ public class VkInstanceCreateInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link PointerBuffer} to the {@code ppEnabledExtensionNames} field. */
         public VkInstanceCreateInfo.Buffer ppEnabledExtensionNames(@Nullable @NativeType("char const * const *") PointerBuffer value) { VkInstanceCreateInfo.nppEnabledExtensionNames(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkInstanceCreateInfo.Buffer getSType(int[] dst) { gather(VkInstanceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkInstanceCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkInstanceCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkInstanceCreateInfo.Buffer getFlags(int[] dst) { gather(VkInstanceCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkInstanceCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkInstanceCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code enabledLayerCount} field of the structs between the current position and limit to the specified array. */
+        public VkInstanceCreateInfo.Buffer getEnabledLayerCount(int[] dst) { gather(VkInstanceCreateInfo.ENABLEDLAYERCOUNT, dst); return this; }
+        /** Copies the {@code enabledLayerCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkInstanceCreateInfo.Buffer getEnabledLayerCount(IntBuffer dst) { gather(VkInstanceCreateInfo.ENABLEDLAYERCOUNT, dst); return this; }
+        /** Copies the {@code enabledExtensionCount} field of the structs between the current position and limit to the specified array. */
+        public VkInstanceCreateInfo.Buffer getEnabledExtensionCount(int[] dst) { gather(VkInstanceCreateInfo.ENABLEDEXTENSIONCOUNT, dst); return this; }
+        /** Copies the {@code enabledExtensionCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkInstanceCreateInfo.Buffer getEnabledExtensionCount(IntBuffer dst) { gather(VkInstanceCreateInfo.ENABLEDEXTENSIONCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkInstanceCreateInfo.Buffer putSType(int[] src) { scatter(VkInstanceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkInstanceCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkInstanceCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkInstanceCreateInfo.Buffer putFlags(int[] src) { scatter(VkInstanceCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkInstanceCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkInstanceCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
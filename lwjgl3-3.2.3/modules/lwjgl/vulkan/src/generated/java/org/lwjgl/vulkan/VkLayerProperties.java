@@ -206,6 +206,24 @@ public class VkLayerProperties extends Struct implements NativeResource {
         return wrap(VkLayerProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkLayerProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkLayerProperties malloc(MemoryArena arena) {
+        return wrap(VkLayerProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkLayerProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkLayerProperties calloc(MemoryArena arena) {
+        return wrap(VkLayerProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkLayerProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -244,6 +262,26 @@ public class VkLayerProperties extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkLayerProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkLayerProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkLayerProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkLayerProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #layerName}. */
@@ -316,6 +354,15 @@ public class VkLayerProperties extends Struct implements NativeResource {
         @NativeType("char[VK_MAX_DESCRIPTION_SIZE]")
         public String descriptionString() { return VkLayerProperties.ndescriptionString(address()); }
 
+        /** Copies the {@code specVersion} field of the structs between the current position and limit to the specified array. */
+        public VkLayerProperties.Buffer getSpecVersion(int[] dst) { gather(VkLayerProperties.SPECVERSION, dst); return this; }
+        /** Copies the {@code specVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkLayerProperties.Buffer getSpecVersion(IntBuffer dst) { gather(VkLayerProperties.SPECVERSION, dst); return this; }
+        /** Copies the {@code implementationVersion} field of the structs between the current position and limit to the specified array. */
+        public VkLayerProperties.Buffer getImplementationVersion(int[] dst) { gather(VkLayerProperties.IMPLEMENTATIONVERSION, dst); return this; }
+        /** Copies the {@code implementationVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkLayerProperties.Buffer getImplementationVersion(IntBuffer dst) { gather(VkLayerProperties.IMPLEMENTATIONVERSION, dst); return this; }
+
     }
 
 }
\ No newline at end of file
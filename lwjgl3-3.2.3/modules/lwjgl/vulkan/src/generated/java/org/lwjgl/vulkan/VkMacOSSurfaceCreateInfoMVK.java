@@ -253,6 +253,24 @@ public class VkMacOSSurfaceCreateInfoMVK extends Struct implements NativeResourc
         return wrap(VkMacOSSurfaceCreateInfoMVK.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMacOSSurfaceCreateInfoMVK} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMacOSSurfaceCreateInfoMVK malloc(MemoryArena arena) {
+        return wrap(VkMacOSSurfaceCreateInfoMVK.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMacOSSurfaceCreateInfoMVK} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMacOSSurfaceCreateInfoMVK calloc(MemoryArena arena) {
+        return wrap(VkMacOSSurfaceCreateInfoMVK.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMacOSSurfaceCreateInfoMVK.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkMacOSSurfaceCreateInfoMVK extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMacOSSurfaceCreateInfoMVK.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMacOSSurfaceCreateInfoMVK.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMacOSSurfaceCreateInfoMVK.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMacOSSurfaceCreateInfoMVK.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -392,6 +430,24 @@ public class VkMacOSSurfaceCreateInfoMVK extends Struct implements NativeResourc
         /** Sets the specified value to the {@code pView} field. */
         public VkMacOSSurfaceCreateInfoMVK.Buffer pView(@NativeType("void const *") long value) { VkMacOSSurfaceCreateInfoMVK.npView(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer getSType(int[] dst) { gather(VkMacOSSurfaceCreateInfoMVK.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer getSType(IntBuffer dst) { gather(VkMacOSSurfaceCreateInfoMVK.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer getFlags(int[] dst) { gather(VkMacOSSurfaceCreateInfoMVK.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer getFlags(IntBuffer dst) { gather(VkMacOSSurfaceCreateInfoMVK.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer putSType(int[] src) { scatter(VkMacOSSurfaceCreateInfoMVK.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer putSType(IntBuffer src) { scatter(VkMacOSSurfaceCreateInfoMVK.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer putFlags(int[] src) { scatter(VkMacOSSurfaceCreateInfoMVK.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkMacOSSurfaceCreateInfoMVK.Buffer putFlags(IntBuffer src) { scatter(VkMacOSSurfaceCreateInfoMVK.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
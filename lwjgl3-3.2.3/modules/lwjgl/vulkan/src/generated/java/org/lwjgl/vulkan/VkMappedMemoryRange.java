@@ -269,6 +269,24 @@ public class VkMappedMemoryRange extends Struct implements NativeResource {
         return wrap(VkMappedMemoryRange.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMappedMemoryRange} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMappedMemoryRange malloc(MemoryArena arena) {
+        return wrap(VkMappedMemoryRange.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMappedMemoryRange} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMappedMemoryRange calloc(MemoryArena arena) {
+        return wrap(VkMappedMemoryRange.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMappedMemoryRange.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class VkMappedMemoryRange extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMappedMemoryRange.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMappedMemoryRange.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMappedMemoryRange.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMappedMemoryRange.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -396,6 +434,40 @@ public class VkMappedMemoryRange extends Struct implements NativeResource {
         /** Sets the specified value to the {@code size} field. */
         public VkMappedMemoryRange.Buffer size(@NativeType("VkDeviceSize") long value) { VkMappedMemoryRange.nsize(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMappedMemoryRange.Buffer getSType(int[] dst) { gather(VkMappedMemoryRange.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMappedMemoryRange.Buffer getSType(IntBuffer dst) { gather(VkMappedMemoryRange.STYPE, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkMappedMemoryRange.Buffer getMemory(long[] dst) { gather(VkMappedMemoryRange.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkMappedMemoryRange.Buffer getMemory(LongBuffer dst) { gather(VkMappedMemoryRange.MEMORY, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkMappedMemoryRange.Buffer getOffset(long[] dst) { gather(VkMappedMemoryRange.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkMappedMemoryRange.Buffer getOffset(LongBuffer dst) { gather(VkMappedMemoryRange.OFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkMappedMemoryRange.Buffer getSize(long[] dst) { gather(VkMappedMemoryRange.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkMappedMemoryRange.Buffer getSize(LongBuffer dst) { gather(VkMappedMemoryRange.SIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putSType(int[] src) { scatter(VkMappedMemoryRange.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putSType(IntBuffer src) { scatter(VkMappedMemoryRange.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putMemory(long[] src) { scatter(VkMappedMemoryRange.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putMemory(LongBuffer src) { scatter(VkMappedMemoryRange.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putOffset(long[] src) { scatter(VkMappedMemoryRange.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putOffset(LongBuffer src) { scatter(VkMappedMemoryRange.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putSize(long[] src) { scatter(VkMappedMemoryRange.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public VkMappedMemoryRange.Buffer putSize(LongBuffer src) { scatter(VkMappedMemoryRange.SIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -259,6 +259,24 @@ public class VkMemoryAllocateFlagsInfo extends Struct implements NativeResource
         return wrap(VkMemoryAllocateFlagsInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryAllocateFlagsInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryAllocateFlagsInfo malloc(MemoryArena arena) {
+        return wrap(VkMemoryAllocateFlagsInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryAllocateFlagsInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryAllocateFlagsInfo calloc(MemoryArena arena) {
+        return wrap(VkMemoryAllocateFlagsInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryAllocateFlagsInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkMemoryAllocateFlagsInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryAllocateFlagsInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryAllocateFlagsInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryAllocateFlagsInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryAllocateFlagsInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -377,6 +415,32 @@ public class VkMemoryAllocateFlagsInfo extends Struct implements NativeResource
         /** Sets the specified value to the {@code deviceMask} field. */
         public VkMemoryAllocateFlagsInfo.Buffer deviceMask(@NativeType("uint32_t") int value) { VkMemoryAllocateFlagsInfo.ndeviceMask(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryAllocateFlagsInfo.Buffer getSType(int[] dst) { gather(VkMemoryAllocateFlagsInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryAllocateFlagsInfo.Buffer getSType(IntBuffer dst) { gather(VkMemoryAllocateFlagsInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryAllocateFlagsInfo.Buffer getFlags(int[] dst) { gather(VkMemoryAllocateFlagsInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryAllocateFlagsInfo.Buffer getFlags(IntBuffer dst) { gather(VkMemoryAllocateFlagsInfo.FLAGS, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryAllocateFlagsInfo.Buffer getDeviceMask(int[] dst) { gather(VkMemoryAllocateFlagsInfo.DEVICEMASK, dst); return this; }
+        /** Copies the {@code deviceMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryAllocateFlagsInfo.Buffer getDeviceMask(IntBuffer dst) { gather(VkMemoryAllocateFlagsInfo.DEVICEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryAllocateFlagsInfo.Buffer putSType(int[] src) { scatter(VkMemoryAllocateFlagsInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryAllocateFlagsInfo.Buffer putSType(IntBuffer src) { scatter(VkMemoryAllocateFlagsInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkMemoryAllocateFlagsInfo.Buffer putFlags(int[] src) { scatter(VkMemoryAllocateFlagsInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkMemoryAllocateFlagsInfo.Buffer putFlags(IntBuffer src) { scatter(VkMemoryAllocateFlagsInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkMemoryAllocateFlagsInfo.Buffer putDeviceMask(int[] src) { scatter(VkMemoryAllocateFlagsInfo.DEVICEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code deviceMask} field of the structs between the current position and limit. */
+        public VkMemoryAllocateFlagsInfo.Buffer putDeviceMask(IntBuffer src) { scatter(VkMemoryAllocateFlagsInfo.DEVICEMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
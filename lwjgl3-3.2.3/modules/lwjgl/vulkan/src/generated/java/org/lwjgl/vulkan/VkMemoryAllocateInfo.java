@@ -285,6 +285,24 @@ public class VkMemoryAllocateInfo extends Struct implements NativeResource {
         return wrap(VkMemoryAllocateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryAllocateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryAllocateInfo malloc(MemoryArena arena) {
+        return wrap(VkMemoryAllocateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryAllocateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryAllocateInfo calloc(MemoryArena arena) {
+        return wrap(VkMemoryAllocateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryAllocateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -323,6 +341,26 @@ public class VkMemoryAllocateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryAllocateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryAllocateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -403,6 +441,32 @@ public class VkMemoryAllocateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code memoryTypeIndex} field. */
         public VkMemoryAllocateInfo.Buffer memoryTypeIndex(@NativeType("uint32_t") int value) { VkMemoryAllocateInfo.nmemoryTypeIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryAllocateInfo.Buffer getSType(int[] dst) { gather(VkMemoryAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryAllocateInfo.Buffer getSType(IntBuffer dst) { gather(VkMemoryAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code allocationSize} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryAllocateInfo.Buffer getAllocationSize(long[] dst) { gather(VkMemoryAllocateInfo.ALLOCATIONSIZE, dst); return this; }
+        /** Copies the {@code allocationSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryAllocateInfo.Buffer getAllocationSize(LongBuffer dst) { gather(VkMemoryAllocateInfo.ALLOCATIONSIZE, dst); return this; }
+        /** Copies the {@code memoryTypeIndex} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryAllocateInfo.Buffer getMemoryTypeIndex(int[] dst) { gather(VkMemoryAllocateInfo.MEMORYTYPEINDEX, dst); return this; }
+        /** Copies the {@code memoryTypeIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryAllocateInfo.Buffer getMemoryTypeIndex(IntBuffer dst) { gather(VkMemoryAllocateInfo.MEMORYTYPEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryAllocateInfo.Buffer putSType(int[] src) { scatter(VkMemoryAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryAllocateInfo.Buffer putSType(IntBuffer src) { scatter(VkMemoryAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code allocationSize} field of the structs between the current position and limit. */
+        public VkMemoryAllocateInfo.Buffer putAllocationSize(long[] src) { scatter(VkMemoryAllocateInfo.ALLOCATIONSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code allocationSize} field of the structs between the current position and limit. */
+        public VkMemoryAllocateInfo.Buffer putAllocationSize(LongBuffer src) { scatter(VkMemoryAllocateInfo.ALLOCATIONSIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryTypeIndex} field of the structs between the current position and limit. */
+        public VkMemoryAllocateInfo.Buffer putMemoryTypeIndex(int[] src) { scatter(VkMemoryAllocateInfo.MEMORYTYPEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryTypeIndex} field of the structs between the current position and limit. */
+        public VkMemoryAllocateInfo.Buffer putMemoryTypeIndex(IntBuffer src) { scatter(VkMemoryAllocateInfo.MEMORYTYPEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
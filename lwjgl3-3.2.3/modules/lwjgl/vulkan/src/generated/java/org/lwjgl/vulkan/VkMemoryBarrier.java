@@ -253,6 +253,24 @@ public class VkMemoryBarrier extends Struct implements NativeResource {
         return wrap(VkMemoryBarrier.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryBarrier} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryBarrier malloc(MemoryArena arena) {
+        return wrap(VkMemoryBarrier.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryBarrier} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryBarrier calloc(MemoryArena arena) {
+        return wrap(VkMemoryBarrier.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryBarrier.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkMemoryBarrier extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryBarrier.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryBarrier.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryBarrier.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryBarrier.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -371,6 +409,32 @@ public class VkMemoryBarrier extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dstAccessMask} field. */
         public VkMemoryBarrier.Buffer dstAccessMask(@NativeType("VkAccessFlags") int value) { VkMemoryBarrier.ndstAccessMask(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryBarrier.Buffer getSType(int[] dst) { gather(VkMemoryBarrier.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryBarrier.Buffer getSType(IntBuffer dst) { gather(VkMemoryBarrier.STYPE, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryBarrier.Buffer getSrcAccessMask(int[] dst) { gather(VkMemoryBarrier.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryBarrier.Buffer getSrcAccessMask(IntBuffer dst) { gather(VkMemoryBarrier.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryBarrier.Buffer getDstAccessMask(int[] dst) { gather(VkMemoryBarrier.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryBarrier.Buffer getDstAccessMask(IntBuffer dst) { gather(VkMemoryBarrier.DSTACCESSMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryBarrier.Buffer putSType(int[] src) { scatter(VkMemoryBarrier.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryBarrier.Buffer putSType(IntBuffer src) { scatter(VkMemoryBarrier.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkMemoryBarrier.Buffer putSrcAccessMask(int[] src) { scatter(VkMemoryBarrier.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkMemoryBarrier.Buffer putSrcAccessMask(IntBuffer src) { scatter(VkMemoryBarrier.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkMemoryBarrier.Buffer putDstAccessMask(int[] src) { scatter(VkMemoryBarrier.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkMemoryBarrier.Buffer putDstAccessMask(IntBuffer src) { scatter(VkMemoryBarrier.DSTACCESSMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
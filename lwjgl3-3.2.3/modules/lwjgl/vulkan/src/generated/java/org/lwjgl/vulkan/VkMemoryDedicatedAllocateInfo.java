@@ -258,6 +258,24 @@ public class VkMemoryDedicatedAllocateInfo extends Struct implements NativeResou
         return wrap(VkMemoryDedicatedAllocateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryDedicatedAllocateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryDedicatedAllocateInfo malloc(MemoryArena arena) {
+        return wrap(VkMemoryDedicatedAllocateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryDedicatedAllocateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryDedicatedAllocateInfo calloc(MemoryArena arena) {
+        return wrap(VkMemoryDedicatedAllocateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryDedicatedAllocateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -296,6 +314,26 @@ public class VkMemoryDedicatedAllocateInfo extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryDedicatedAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryDedicatedAllocateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryDedicatedAllocateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryDedicatedAllocateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -376,6 +414,32 @@ public class VkMemoryDedicatedAllocateInfo extends Struct implements NativeResou
         /** Sets the specified value to the {@code buffer} field. */
         public VkMemoryDedicatedAllocateInfo.Buffer buffer(@NativeType("VkBuffer") long value) { VkMemoryDedicatedAllocateInfo.nbuffer(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryDedicatedAllocateInfo.Buffer getSType(int[] dst) { gather(VkMemoryDedicatedAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryDedicatedAllocateInfo.Buffer getSType(IntBuffer dst) { gather(VkMemoryDedicatedAllocateInfo.STYPE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryDedicatedAllocateInfo.Buffer getImage(long[] dst) { gather(VkMemoryDedicatedAllocateInfo.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryDedicatedAllocateInfo.Buffer getImage(LongBuffer dst) { gather(VkMemoryDedicatedAllocateInfo.IMAGE, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryDedicatedAllocateInfo.Buffer getBuffer(long[] dst) { gather(VkMemoryDedicatedAllocateInfo.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryDedicatedAllocateInfo.Buffer getBuffer(LongBuffer dst) { gather(VkMemoryDedicatedAllocateInfo.BUFFER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedAllocateInfo.Buffer putSType(int[] src) { scatter(VkMemoryDedicatedAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedAllocateInfo.Buffer putSType(IntBuffer src) { scatter(VkMemoryDedicatedAllocateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedAllocateInfo.Buffer putImage(long[] src) { scatter(VkMemoryDedicatedAllocateInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedAllocateInfo.Buffer putImage(LongBuffer src) { scatter(VkMemoryDedicatedAllocateInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedAllocateInfo.Buffer putBuffer(long[] src) { scatter(VkMemoryDedicatedAllocateInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedAllocateInfo.Buffer putBuffer(LongBuffer src) { scatter(VkMemoryDedicatedAllocateInfo.BUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,24 @@ public class VkMemoryDedicatedRequirements extends Struct implements NativeResou
         return wrap(VkMemoryDedicatedRequirements.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryDedicatedRequirements} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirements malloc(MemoryArena arena) {
+        return wrap(VkMemoryDedicatedRequirements.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryDedicatedRequirements} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirements calloc(MemoryArena arena) {
+        return wrap(VkMemoryDedicatedRequirements.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryDedicatedRequirements.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class VkMemoryDedicatedRequirements extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryDedicatedRequirements.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirements.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryDedicatedRequirements.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirements.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -366,6 +404,16 @@ public class VkMemoryDedicatedRequirements extends Struct implements NativeResou
         /** Sets the specified value to the {@code pNext} field. */
         public VkMemoryDedicatedRequirements.Buffer pNext(@NativeType("void *") long value) { VkMemoryDedicatedRequirements.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryDedicatedRequirements.Buffer getSType(int[] dst) { gather(VkMemoryDedicatedRequirements.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryDedicatedRequirements.Buffer getSType(IntBuffer dst) { gather(VkMemoryDedicatedRequirements.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedRequirements.Buffer putSType(int[] src) { scatter(VkMemoryDedicatedRequirements.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryDedicatedRequirements.Buffer putSType(IntBuffer src) { scatter(VkMemoryDedicatedRequirements.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
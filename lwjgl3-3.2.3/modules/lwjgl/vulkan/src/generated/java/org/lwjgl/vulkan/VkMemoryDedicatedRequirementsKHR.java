@@ -174,6 +174,24 @@ public class VkMemoryDedicatedRequirementsKHR extends VkMemoryDedicatedRequireme
         return wrap(VkMemoryDedicatedRequirementsKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryDedicatedRequirementsKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirementsKHR malloc(MemoryArena arena) {
+        return wrap(VkMemoryDedicatedRequirementsKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryDedicatedRequirementsKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirementsKHR calloc(MemoryArena arena) {
+        return wrap(VkMemoryDedicatedRequirementsKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryDedicatedRequirementsKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -212,6 +230,26 @@ public class VkMemoryDedicatedRequirementsKHR extends VkMemoryDedicatedRequireme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryDedicatedRequirementsKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirementsKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryDedicatedRequirementsKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryDedicatedRequirementsKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** An array of {@link VkMemoryDedicatedRequirementsKHR} structs. */
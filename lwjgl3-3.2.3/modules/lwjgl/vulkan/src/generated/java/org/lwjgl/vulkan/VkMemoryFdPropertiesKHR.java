@@ -229,6 +229,24 @@ public class VkMemoryFdPropertiesKHR extends Struct implements NativeResource {
         return wrap(VkMemoryFdPropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryFdPropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryFdPropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkMemoryFdPropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryFdPropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryFdPropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkMemoryFdPropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryFdPropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkMemoryFdPropertiesKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryFdPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryFdPropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryFdPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryFdPropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -334,6 +372,20 @@ public class VkMemoryFdPropertiesKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pNext} field. */
         public VkMemoryFdPropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkMemoryFdPropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryFdPropertiesKHR.Buffer getSType(int[] dst) { gather(VkMemoryFdPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryFdPropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkMemoryFdPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryFdPropertiesKHR.Buffer getMemoryTypeBits(int[] dst) { gather(VkMemoryFdPropertiesKHR.MEMORYTYPEBITS, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryFdPropertiesKHR.Buffer getMemoryTypeBits(IntBuffer dst) { gather(VkMemoryFdPropertiesKHR.MEMORYTYPEBITS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryFdPropertiesKHR.Buffer putSType(int[] src) { scatter(VkMemoryFdPropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryFdPropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkMemoryFdPropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -263,6 +263,24 @@ public class VkMemoryGetFdInfoKHR extends Struct implements NativeResource {
         return wrap(VkMemoryGetFdInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryGetFdInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryGetFdInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkMemoryGetFdInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryGetFdInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryGetFdInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkMemoryGetFdInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryGetFdInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class VkMemoryGetFdInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryGetFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryGetFdInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryGetFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryGetFdInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -381,6 +419,32 @@ public class VkMemoryGetFdInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code handleType} field. */
         public VkMemoryGetFdInfoKHR.Buffer handleType(@NativeType("VkExternalMemoryHandleTypeFlagBits") int value) { VkMemoryGetFdInfoKHR.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryGetFdInfoKHR.Buffer getSType(int[] dst) { gather(VkMemoryGetFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryGetFdInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkMemoryGetFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryGetFdInfoKHR.Buffer getMemory(long[] dst) { gather(VkMemoryGetFdInfoKHR.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryGetFdInfoKHR.Buffer getMemory(LongBuffer dst) { gather(VkMemoryGetFdInfoKHR.MEMORY, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryGetFdInfoKHR.Buffer getHandleType(int[] dst) { gather(VkMemoryGetFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryGetFdInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkMemoryGetFdInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryGetFdInfoKHR.Buffer putSType(int[] src) { scatter(VkMemoryGetFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryGetFdInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkMemoryGetFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkMemoryGetFdInfoKHR.Buffer putMemory(long[] src) { scatter(VkMemoryGetFdInfoKHR.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkMemoryGetFdInfoKHR.Buffer putMemory(LongBuffer src) { scatter(VkMemoryGetFdInfoKHR.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkMemoryGetFdInfoKHR.Buffer putHandleType(int[] src) { scatter(VkMemoryGetFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkMemoryGetFdInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkMemoryGetFdInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
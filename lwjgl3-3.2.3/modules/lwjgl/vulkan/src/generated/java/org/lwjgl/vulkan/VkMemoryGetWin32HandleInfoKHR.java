@@ -259,6 +259,24 @@ public class VkMemoryGetWin32HandleInfoKHR extends Struct implements NativeResou
         return wrap(VkMemoryGetWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryGetWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryGetWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkMemoryGetWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryGetWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryGetWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkMemoryGetWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryGetWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkMemoryGetWin32HandleInfoKHR extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryGetWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryGetWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryGetWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryGetWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -377,6 +415,32 @@ public class VkMemoryGetWin32HandleInfoKHR extends Struct implements NativeResou
         /** Sets the specified value to the {@code handleType} field. */
         public VkMemoryGetWin32HandleInfoKHR.Buffer handleType(@NativeType("VkExternalMemoryHandleTypeFlagBits") int value) { VkMemoryGetWin32HandleInfoKHR.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkMemoryGetWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkMemoryGetWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer getMemory(long[] dst) { gather(VkMemoryGetWin32HandleInfoKHR.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer getMemory(LongBuffer dst) { gather(VkMemoryGetWin32HandleInfoKHR.MEMORY, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer getHandleType(int[] dst) { gather(VkMemoryGetWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkMemoryGetWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkMemoryGetWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkMemoryGetWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer putMemory(long[] src) { scatter(VkMemoryGetWin32HandleInfoKHR.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer putMemory(LongBuffer src) { scatter(VkMemoryGetWin32HandleInfoKHR.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer putHandleType(int[] src) { scatter(VkMemoryGetWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkMemoryGetWin32HandleInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkMemoryGetWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -158,6 +158,15 @@ public class VkMemoryHeap extends Struct {
         @NativeType("VkMemoryHeapFlags")
         public int flags() { return VkMemoryHeap.nflags(address()); }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryHeap.Buffer getSize(long[] dst) { gather(VkMemoryHeap.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryHeap.Buffer getSize(LongBuffer dst) { gather(VkMemoryHeap.SIZE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryHeap.Buffer getFlags(int[] dst) { gather(VkMemoryHeap.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryHeap.Buffer getFlags(IntBuffer dst) { gather(VkMemoryHeap.FLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkMemoryHostPointerPropertiesEXT extends Struct implements NativeRe
         return wrap(VkMemoryHostPointerPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryHostPointerPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryHostPointerPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkMemoryHostPointerPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryHostPointerPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryHostPointerPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkMemoryHostPointerPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryHostPointerPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkMemoryHostPointerPropertiesEXT extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryHostPointerPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryHostPointerPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryHostPointerPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryHostPointerPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,20 @@ public class VkMemoryHostPointerPropertiesEXT extends Struct implements NativeRe
         /** Sets the specified value to the {@code pNext} field. */
         public VkMemoryHostPointerPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkMemoryHostPointerPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryHostPointerPropertiesEXT.Buffer getSType(int[] dst) { gather(VkMemoryHostPointerPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryHostPointerPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkMemoryHostPointerPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryHostPointerPropertiesEXT.Buffer getMemoryTypeBits(int[] dst) { gather(VkMemoryHostPointerPropertiesEXT.MEMORYTYPEBITS, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryHostPointerPropertiesEXT.Buffer getMemoryTypeBits(IntBuffer dst) { gather(VkMemoryHostPointerPropertiesEXT.MEMORYTYPEBITS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryHostPointerPropertiesEXT.Buffer putSType(int[] src) { scatter(VkMemoryHostPointerPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryHostPointerPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkMemoryHostPointerPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -239,6 +239,24 @@ public class VkMemoryPriorityAllocateInfoEXT extends Struct implements NativeRes
         return wrap(VkMemoryPriorityAllocateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryPriorityAllocateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryPriorityAllocateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkMemoryPriorityAllocateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryPriorityAllocateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryPriorityAllocateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkMemoryPriorityAllocateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryPriorityAllocateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VkMemoryPriorityAllocateInfoEXT extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryPriorityAllocateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryPriorityAllocateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryPriorityAllocateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryPriorityAllocateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -347,6 +385,24 @@ public class VkMemoryPriorityAllocateInfoEXT extends Struct implements NativeRes
         /** Sets the specified value to the {@code priority} field. */
         public VkMemoryPriorityAllocateInfoEXT.Buffer priority(float value) { VkMemoryPriorityAllocateInfoEXT.npriority(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer getSType(int[] dst) { gather(VkMemoryPriorityAllocateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkMemoryPriorityAllocateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code priority} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer getPriority(float[] dst) { gather(VkMemoryPriorityAllocateInfoEXT.PRIORITY, dst); return this; }
+        /** Copies the {@code priority} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer getPriority(FloatBuffer dst) { gather(VkMemoryPriorityAllocateInfoEXT.PRIORITY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer putSType(int[] src) { scatter(VkMemoryPriorityAllocateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkMemoryPriorityAllocateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code priority} field of the structs between the current position and limit. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer putPriority(float[] src) { scatter(VkMemoryPriorityAllocateInfoEXT.PRIORITY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code priority} field of the structs between the current position and limit. */
+        public VkMemoryPriorityAllocateInfoEXT.Buffer putPriority(FloatBuffer src) { scatter(VkMemoryPriorityAllocateInfoEXT.PRIORITY, src); return this; }
+
     }
 
 }
\ No newline at end of file
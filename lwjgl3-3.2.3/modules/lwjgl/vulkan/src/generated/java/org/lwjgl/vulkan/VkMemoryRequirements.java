@@ -190,6 +190,24 @@ public class VkMemoryRequirements extends Struct implements NativeResource {
         return wrap(VkMemoryRequirements.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryRequirements} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryRequirements malloc(MemoryArena arena) {
+        return wrap(VkMemoryRequirements.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryRequirements} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryRequirements calloc(MemoryArena arena) {
+        return wrap(VkMemoryRequirements.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryRequirements.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -228,6 +246,26 @@ public class VkMemoryRequirements extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryRequirements.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryRequirements.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryRequirements.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryRequirements.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #size}. */
@@ -285,6 +323,19 @@ public class VkMemoryRequirements extends Struct implements NativeResource {
         @NativeType("uint32_t")
         public int memoryTypeBits() { return VkMemoryRequirements.nmemoryTypeBits(address()); }
 
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryRequirements.Buffer getSize(long[] dst) { gather(VkMemoryRequirements.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryRequirements.Buffer getSize(LongBuffer dst) { gather(VkMemoryRequirements.SIZE, dst); return this; }
+        /** Copies the {@code alignment} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryRequirements.Buffer getAlignment(long[] dst) { gather(VkMemoryRequirements.ALIGNMENT, dst); return this; }
+        /** Copies the {@code alignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryRequirements.Buffer getAlignment(LongBuffer dst) { gather(VkMemoryRequirements.ALIGNMENT, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryRequirements.Buffer getMemoryTypeBits(int[] dst) { gather(VkMemoryRequirements.MEMORYTYPEBITS, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryRequirements.Buffer getMemoryTypeBits(IntBuffer dst) { gather(VkMemoryRequirements.MEMORYTYPEBITS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
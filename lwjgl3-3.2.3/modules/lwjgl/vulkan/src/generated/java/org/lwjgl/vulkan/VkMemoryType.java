@@ -158,6 +158,15 @@ public class VkMemoryType extends Struct {
         @NativeType("uint32_t")
         public int heapIndex() { return VkMemoryType.nheapIndex(address()); }
 
+        /** Copies the {@code propertyFlags} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryType.Buffer getPropertyFlags(int[] dst) { gather(VkMemoryType.PROPERTYFLAGS, dst); return this; }
+        /** Copies the {@code propertyFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryType.Buffer getPropertyFlags(IntBuffer dst) { gather(VkMemoryType.PROPERTYFLAGS, dst); return this; }
+        /** Copies the {@code heapIndex} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryType.Buffer getHeapIndex(int[] dst) { gather(VkMemoryType.HEAPINDEX, dst); return this; }
+        /** Copies the {@code heapIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryType.Buffer getHeapIndex(IntBuffer dst) { gather(VkMemoryType.HEAPINDEX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -229,6 +229,24 @@ public class VkMemoryWin32HandlePropertiesKHR extends Struct implements NativeRe
         return wrap(VkMemoryWin32HandlePropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMemoryWin32HandlePropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryWin32HandlePropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkMemoryWin32HandlePropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMemoryWin32HandlePropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMemoryWin32HandlePropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkMemoryWin32HandlePropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMemoryWin32HandlePropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkMemoryWin32HandlePropertiesKHR extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMemoryWin32HandlePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryWin32HandlePropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMemoryWin32HandlePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMemoryWin32HandlePropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -334,6 +372,20 @@ public class VkMemoryWin32HandlePropertiesKHR extends Struct implements NativeRe
         /** Sets the specified value to the {@code pNext} field. */
         public VkMemoryWin32HandlePropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkMemoryWin32HandlePropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryWin32HandlePropertiesKHR.Buffer getSType(int[] dst) { gather(VkMemoryWin32HandlePropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryWin32HandlePropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkMemoryWin32HandlePropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified array. */
+        public VkMemoryWin32HandlePropertiesKHR.Buffer getMemoryTypeBits(int[] dst) { gather(VkMemoryWin32HandlePropertiesKHR.MEMORYTYPEBITS, dst); return this; }
+        /** Copies the {@code memoryTypeBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkMemoryWin32HandlePropertiesKHR.Buffer getMemoryTypeBits(IntBuffer dst) { gather(VkMemoryWin32HandlePropertiesKHR.MEMORYTYPEBITS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryWin32HandlePropertiesKHR.Buffer putSType(int[] src) { scatter(VkMemoryWin32HandlePropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMemoryWin32HandlePropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkMemoryWin32HandlePropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class VkMetalSurfaceCreateInfoEXT extends Struct implements NativeResourc
         return wrap(VkMetalSurfaceCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMetalSurfaceCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMetalSurfaceCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkMetalSurfaceCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMetalSurfaceCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMetalSurfaceCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkMetalSurfaceCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMetalSurfaceCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkMetalSurfaceCreateInfoEXT extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMetalSurfaceCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMetalSurfaceCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMetalSurfaceCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMetalSurfaceCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -396,6 +434,24 @@ public class VkMetalSurfaceCreateInfoEXT extends Struct implements NativeResourc
         /** Sets the address of the specified {@link PointerBuffer} to the {@code pLayer} field. */
         public VkMetalSurfaceCreateInfoEXT.Buffer pLayer(@NativeType("CAMetalLayer const *") PointerBuffer value) { VkMetalSurfaceCreateInfoEXT.npLayer(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkMetalSurfaceCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkMetalSurfaceCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkMetalSurfaceCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkMetalSurfaceCreateInfoEXT.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkMetalSurfaceCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkMetalSurfaceCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkMetalSurfaceCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkMetalSurfaceCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkMetalSurfaceCreateInfoEXT.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkMultisamplePropertiesEXT extends Struct implements NativeResource
         return wrap(VkMultisamplePropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkMultisamplePropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMultisamplePropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkMultisamplePropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkMultisamplePropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkMultisamplePropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkMultisamplePropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkMultisamplePropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkMultisamplePropertiesEXT extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkMultisamplePropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMultisamplePropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkMultisamplePropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkMultisamplePropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -332,6 +370,16 @@ public class VkMultisamplePropertiesEXT extends Struct implements NativeResource
         /** Sets the specified value to the {@code pNext} field. */
         public VkMultisamplePropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkMultisamplePropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkMultisamplePropertiesEXT.Buffer getSType(int[] dst) { gather(VkMultisamplePropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkMultisamplePropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkMultisamplePropertiesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkMultisamplePropertiesEXT.Buffer putSType(int[] src) { scatter(VkMultisamplePropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkMultisamplePropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkMultisamplePropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -346,6 +346,24 @@ public class VkObjectTableCreateInfoNVX extends Struct implements NativeResource
         return wrap(VkObjectTableCreateInfoNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTableCreateInfoNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableCreateInfoNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTableCreateInfoNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTableCreateInfoNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableCreateInfoNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTableCreateInfoNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTableCreateInfoNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -384,6 +402,26 @@ public class VkObjectTableCreateInfoNVX extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTableCreateInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableCreateInfoNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTableCreateInfoNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableCreateInfoNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -550,6 +588,64 @@ public class VkObjectTableCreateInfoNVX extends Struct implements NativeResource
         /** Sets the specified value to the {@code maxPipelineLayouts} field. */
         public VkObjectTableCreateInfoNVX.Buffer maxPipelineLayouts(@NativeType("uint32_t") int value) { VkObjectTableCreateInfoNVX.nmaxPipelineLayouts(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getSType(int[] dst) { gather(VkObjectTableCreateInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getSType(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.STYPE, dst); return this; }
+        /** Copies the {@code objectCount} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getObjectCount(int[] dst) { gather(VkObjectTableCreateInfoNVX.OBJECTCOUNT, dst); return this; }
+        /** Copies the {@code objectCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getObjectCount(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.OBJECTCOUNT, dst); return this; }
+        /** Copies the {@code maxUniformBuffersPerDescriptor} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxUniformBuffersPerDescriptor(int[] dst) { gather(VkObjectTableCreateInfoNVX.MAXUNIFORMBUFFERSPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxUniformBuffersPerDescriptor} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxUniformBuffersPerDescriptor(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.MAXUNIFORMBUFFERSPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxStorageBuffersPerDescriptor} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxStorageBuffersPerDescriptor(int[] dst) { gather(VkObjectTableCreateInfoNVX.MAXSTORAGEBUFFERSPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxStorageBuffersPerDescriptor} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxStorageBuffersPerDescriptor(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.MAXSTORAGEBUFFERSPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxStorageImagesPerDescriptor} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxStorageImagesPerDescriptor(int[] dst) { gather(VkObjectTableCreateInfoNVX.MAXSTORAGEIMAGESPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxStorageImagesPerDescriptor} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxStorageImagesPerDescriptor(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.MAXSTORAGEIMAGESPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxSampledImagesPerDescriptor} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxSampledImagesPerDescriptor(int[] dst) { gather(VkObjectTableCreateInfoNVX.MAXSAMPLEDIMAGESPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxSampledImagesPerDescriptor} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxSampledImagesPerDescriptor(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.MAXSAMPLEDIMAGESPERDESCRIPTOR, dst); return this; }
+        /** Copies the {@code maxPipelineLayouts} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxPipelineLayouts(int[] dst) { gather(VkObjectTableCreateInfoNVX.MAXPIPELINELAYOUTS, dst); return this; }
+        /** Copies the {@code maxPipelineLayouts} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableCreateInfoNVX.Buffer getMaxPipelineLayouts(IntBuffer dst) { gather(VkObjectTableCreateInfoNVX.MAXPIPELINELAYOUTS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putSType(int[] src) { scatter(VkObjectTableCreateInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putSType(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code objectCount} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putObjectCount(int[] src) { scatter(VkObjectTableCreateInfoNVX.OBJECTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code objectCount} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putObjectCount(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.OBJECTCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code maxUniformBuffersPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxUniformBuffersPerDescriptor(int[] src) { scatter(VkObjectTableCreateInfoNVX.MAXUNIFORMBUFFERSPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxUniformBuffersPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxUniformBuffersPerDescriptor(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.MAXUNIFORMBUFFERSPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code maxStorageBuffersPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxStorageBuffersPerDescriptor(int[] src) { scatter(VkObjectTableCreateInfoNVX.MAXSTORAGEBUFFERSPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxStorageBuffersPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxStorageBuffersPerDescriptor(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.MAXSTORAGEBUFFERSPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code maxStorageImagesPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxStorageImagesPerDescriptor(int[] src) { scatter(VkObjectTableCreateInfoNVX.MAXSTORAGEIMAGESPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxStorageImagesPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxStorageImagesPerDescriptor(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.MAXSTORAGEIMAGESPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code maxSampledImagesPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxSampledImagesPerDescriptor(int[] src) { scatter(VkObjectTableCreateInfoNVX.MAXSAMPLEDIMAGESPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxSampledImagesPerDescriptor} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxSampledImagesPerDescriptor(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.MAXSAMPLEDIMAGESPERDESCRIPTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code maxPipelineLayouts} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxPipelineLayouts(int[] src) { scatter(VkObjectTableCreateInfoNVX.MAXPIPELINELAYOUTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxPipelineLayouts} field of the structs between the current position and limit. */
+        public VkObjectTableCreateInfoNVX.Buffer putMaxPipelineLayouts(IntBuffer src) { scatter(VkObjectTableCreateInfoNVX.MAXPIPELINELAYOUTS, src); return this; }
+
     }
 
 }
\ No newline at end of file
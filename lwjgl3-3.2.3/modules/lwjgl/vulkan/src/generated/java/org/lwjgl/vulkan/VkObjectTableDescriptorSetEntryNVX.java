@@ -249,6 +249,24 @@ public class VkObjectTableDescriptorSetEntryNVX extends Struct implements Native
         return wrap(VkObjectTableDescriptorSetEntryNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTableDescriptorSetEntryNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableDescriptorSetEntryNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTableDescriptorSetEntryNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTableDescriptorSetEntryNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableDescriptorSetEntryNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTableDescriptorSetEntryNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTableDescriptorSetEntryNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkObjectTableDescriptorSetEntryNVX extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTableDescriptorSetEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableDescriptorSetEntryNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTableDescriptorSetEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableDescriptorSetEntryNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -367,6 +405,40 @@ public class VkObjectTableDescriptorSetEntryNVX extends Struct implements Native
         /** Sets the specified value to the {@code descriptorSet} field. */
         public VkObjectTableDescriptorSetEntryNVX.Buffer descriptorSet(@NativeType("VkDescriptorSet") long value) { VkObjectTableDescriptorSetEntryNVX.ndescriptorSet(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getType(int[] dst) { gather(VkObjectTableDescriptorSetEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getType(IntBuffer dst) { gather(VkObjectTableDescriptorSetEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getFlags(int[] dst) { gather(VkObjectTableDescriptorSetEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getFlags(IntBuffer dst) { gather(VkObjectTableDescriptorSetEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code pipelineLayout} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getPipelineLayout(long[] dst) { gather(VkObjectTableDescriptorSetEntryNVX.PIPELINELAYOUT, dst); return this; }
+        /** Copies the {@code pipelineLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getPipelineLayout(LongBuffer dst) { gather(VkObjectTableDescriptorSetEntryNVX.PIPELINELAYOUT, dst); return this; }
+        /** Copies the {@code descriptorSet} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getDescriptorSet(long[] dst) { gather(VkObjectTableDescriptorSetEntryNVX.DESCRIPTORSET, dst); return this; }
+        /** Copies the {@code descriptorSet} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer getDescriptorSet(LongBuffer dst) { gather(VkObjectTableDescriptorSetEntryNVX.DESCRIPTORSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putType(int[] src) { scatter(VkObjectTableDescriptorSetEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putType(IntBuffer src) { scatter(VkObjectTableDescriptorSetEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putFlags(int[] src) { scatter(VkObjectTableDescriptorSetEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putFlags(IntBuffer src) { scatter(VkObjectTableDescriptorSetEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineLayout} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putPipelineLayout(long[] src) { scatter(VkObjectTableDescriptorSetEntryNVX.PIPELINELAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineLayout} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putPipelineLayout(LongBuffer src) { scatter(VkObjectTableDescriptorSetEntryNVX.PIPELINELAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorSet} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putDescriptorSet(long[] src) { scatter(VkObjectTableDescriptorSetEntryNVX.DESCRIPTORSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorSet} field of the structs between the current position and limit. */
+        public VkObjectTableDescriptorSetEntryNVX.Buffer putDescriptorSet(LongBuffer src) { scatter(VkObjectTableDescriptorSetEntryNVX.DESCRIPTORSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
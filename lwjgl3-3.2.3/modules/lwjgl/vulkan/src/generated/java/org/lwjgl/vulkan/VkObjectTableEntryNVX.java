@@ -228,6 +228,24 @@ public class VkObjectTableEntryNVX extends Struct implements NativeResource {
         return wrap(VkObjectTableEntryNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTableEntryNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableEntryNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTableEntryNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTableEntryNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableEntryNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTableEntryNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTableEntryNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkObjectTableEntryNVX extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTableEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableEntryNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTableEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableEntryNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -328,6 +366,24 @@ public class VkObjectTableEntryNVX extends Struct implements NativeResource {
         /** Sets the specified value to the {@code flags} field. */
         public VkObjectTableEntryNVX.Buffer flags(@NativeType("VkObjectEntryUsageFlagsNVX") int value) { VkObjectTableEntryNVX.nflags(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableEntryNVX.Buffer getType(int[] dst) { gather(VkObjectTableEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableEntryNVX.Buffer getType(IntBuffer dst) { gather(VkObjectTableEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableEntryNVX.Buffer getFlags(int[] dst) { gather(VkObjectTableEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableEntryNVX.Buffer getFlags(IntBuffer dst) { gather(VkObjectTableEntryNVX.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableEntryNVX.Buffer putType(int[] src) { scatter(VkObjectTableEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableEntryNVX.Buffer putType(IntBuffer src) { scatter(VkObjectTableEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableEntryNVX.Buffer putFlags(int[] src) { scatter(VkObjectTableEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableEntryNVX.Buffer putFlags(IntBuffer src) { scatter(VkObjectTableEntryNVX.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -249,6 +249,24 @@ public class VkObjectTableIndexBufferEntryNVX extends Struct implements NativeRe
         return wrap(VkObjectTableIndexBufferEntryNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTableIndexBufferEntryNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableIndexBufferEntryNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTableIndexBufferEntryNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTableIndexBufferEntryNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableIndexBufferEntryNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTableIndexBufferEntryNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTableIndexBufferEntryNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkObjectTableIndexBufferEntryNVX extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTableIndexBufferEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableIndexBufferEntryNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTableIndexBufferEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableIndexBufferEntryNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -367,6 +405,40 @@ public class VkObjectTableIndexBufferEntryNVX extends Struct implements NativeRe
         /** Sets the specified value to the {@code indexType} field. */
         public VkObjectTableIndexBufferEntryNVX.Buffer indexType(@NativeType("VkIndexType") int value) { VkObjectTableIndexBufferEntryNVX.nindexType(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getType(int[] dst) { gather(VkObjectTableIndexBufferEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getType(IntBuffer dst) { gather(VkObjectTableIndexBufferEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getFlags(int[] dst) { gather(VkObjectTableIndexBufferEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getFlags(IntBuffer dst) { gather(VkObjectTableIndexBufferEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getBuffer(long[] dst) { gather(VkObjectTableIndexBufferEntryNVX.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getBuffer(LongBuffer dst) { gather(VkObjectTableIndexBufferEntryNVX.BUFFER, dst); return this; }
+        /** Copies the {@code indexType} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getIndexType(int[] dst) { gather(VkObjectTableIndexBufferEntryNVX.INDEXTYPE, dst); return this; }
+        /** Copies the {@code indexType} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer getIndexType(IntBuffer dst) { gather(VkObjectTableIndexBufferEntryNVX.INDEXTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putType(int[] src) { scatter(VkObjectTableIndexBufferEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putType(IntBuffer src) { scatter(VkObjectTableIndexBufferEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putFlags(int[] src) { scatter(VkObjectTableIndexBufferEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putFlags(IntBuffer src) { scatter(VkObjectTableIndexBufferEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putBuffer(long[] src) { scatter(VkObjectTableIndexBufferEntryNVX.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putBuffer(LongBuffer src) { scatter(VkObjectTableIndexBufferEntryNVX.BUFFER, src); return this; }
+        /** Copies the values in the specified array to the {@code indexType} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putIndexType(int[] src) { scatter(VkObjectTableIndexBufferEntryNVX.INDEXTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code indexType} field of the structs between the current position and limit. */
+        public VkObjectTableIndexBufferEntryNVX.Buffer putIndexType(IntBuffer src) { scatter(VkObjectTableIndexBufferEntryNVX.INDEXTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
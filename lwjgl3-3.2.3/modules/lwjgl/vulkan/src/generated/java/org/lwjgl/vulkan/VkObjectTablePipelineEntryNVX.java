@@ -235,6 +235,24 @@ public class VkObjectTablePipelineEntryNVX extends Struct implements NativeResou
         return wrap(VkObjectTablePipelineEntryNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTablePipelineEntryNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTablePipelineEntryNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTablePipelineEntryNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTablePipelineEntryNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTablePipelineEntryNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTablePipelineEntryNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTablePipelineEntryNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkObjectTablePipelineEntryNVX extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTablePipelineEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTablePipelineEntryNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTablePipelineEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTablePipelineEntryNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -344,6 +382,32 @@ public class VkObjectTablePipelineEntryNVX extends Struct implements NativeResou
         /** Sets the specified value to the {@code pipeline} field. */
         public VkObjectTablePipelineEntryNVX.Buffer pipeline(@NativeType("VkPipeline") long value) { VkObjectTablePipelineEntryNVX.npipeline(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePipelineEntryNVX.Buffer getType(int[] dst) { gather(VkObjectTablePipelineEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePipelineEntryNVX.Buffer getType(IntBuffer dst) { gather(VkObjectTablePipelineEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePipelineEntryNVX.Buffer getFlags(int[] dst) { gather(VkObjectTablePipelineEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePipelineEntryNVX.Buffer getFlags(IntBuffer dst) { gather(VkObjectTablePipelineEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code pipeline} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePipelineEntryNVX.Buffer getPipeline(long[] dst) { gather(VkObjectTablePipelineEntryNVX.PIPELINE, dst); return this; }
+        /** Copies the {@code pipeline} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePipelineEntryNVX.Buffer getPipeline(LongBuffer dst) { gather(VkObjectTablePipelineEntryNVX.PIPELINE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTablePipelineEntryNVX.Buffer putType(int[] src) { scatter(VkObjectTablePipelineEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTablePipelineEntryNVX.Buffer putType(IntBuffer src) { scatter(VkObjectTablePipelineEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTablePipelineEntryNVX.Buffer putFlags(int[] src) { scatter(VkObjectTablePipelineEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTablePipelineEntryNVX.Buffer putFlags(IntBuffer src) { scatter(VkObjectTablePipelineEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code pipeline} field of the structs between the current position and limit. */
+        public VkObjectTablePipelineEntryNVX.Buffer putPipeline(long[] src) { scatter(VkObjectTablePipelineEntryNVX.PIPELINE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipeline} field of the structs between the current position and limit. */
+        public VkObjectTablePipelineEntryNVX.Buffer putPipeline(LongBuffer src) { scatter(VkObjectTablePipelineEntryNVX.PIPELINE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -249,6 +249,24 @@ public class VkObjectTablePushConstantEntryNVX extends Struct implements NativeR
         return wrap(VkObjectTablePushConstantEntryNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTablePushConstantEntryNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTablePushConstantEntryNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTablePushConstantEntryNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTablePushConstantEntryNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTablePushConstantEntryNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTablePushConstantEntryNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTablePushConstantEntryNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkObjectTablePushConstantEntryNVX extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTablePushConstantEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTablePushConstantEntryNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTablePushConstantEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTablePushConstantEntryNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -367,6 +405,40 @@ public class VkObjectTablePushConstantEntryNVX extends Struct implements NativeR
         /** Sets the specified value to the {@code stageFlags} field. */
         public VkObjectTablePushConstantEntryNVX.Buffer stageFlags(@NativeType("VkShaderStageFlags") int value) { VkObjectTablePushConstantEntryNVX.nstageFlags(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getType(int[] dst) { gather(VkObjectTablePushConstantEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getType(IntBuffer dst) { gather(VkObjectTablePushConstantEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getFlags(int[] dst) { gather(VkObjectTablePushConstantEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getFlags(IntBuffer dst) { gather(VkObjectTablePushConstantEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code pipelineLayout} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getPipelineLayout(long[] dst) { gather(VkObjectTablePushConstantEntryNVX.PIPELINELAYOUT, dst); return this; }
+        /** Copies the {@code pipelineLayout} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getPipelineLayout(LongBuffer dst) { gather(VkObjectTablePushConstantEntryNVX.PIPELINELAYOUT, dst); return this; }
+        /** Copies the {@code stageFlags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getStageFlags(int[] dst) { gather(VkObjectTablePushConstantEntryNVX.STAGEFLAGS, dst); return this; }
+        /** Copies the {@code stageFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTablePushConstantEntryNVX.Buffer getStageFlags(IntBuffer dst) { gather(VkObjectTablePushConstantEntryNVX.STAGEFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putType(int[] src) { scatter(VkObjectTablePushConstantEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putType(IntBuffer src) { scatter(VkObjectTablePushConstantEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putFlags(int[] src) { scatter(VkObjectTablePushConstantEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putFlags(IntBuffer src) { scatter(VkObjectTablePushConstantEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineLayout} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putPipelineLayout(long[] src) { scatter(VkObjectTablePushConstantEntryNVX.PIPELINELAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineLayout} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putPipelineLayout(LongBuffer src) { scatter(VkObjectTablePushConstantEntryNVX.PIPELINELAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code stageFlags} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putStageFlags(int[] src) { scatter(VkObjectTablePushConstantEntryNVX.STAGEFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stageFlags} field of the structs between the current position and limit. */
+        public VkObjectTablePushConstantEntryNVX.Buffer putStageFlags(IntBuffer src) { scatter(VkObjectTablePushConstantEntryNVX.STAGEFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
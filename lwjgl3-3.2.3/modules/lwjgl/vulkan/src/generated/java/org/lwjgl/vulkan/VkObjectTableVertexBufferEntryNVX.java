@@ -235,6 +235,24 @@ public class VkObjectTableVertexBufferEntryNVX extends Struct implements NativeR
         return wrap(VkObjectTableVertexBufferEntryNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkObjectTableVertexBufferEntryNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableVertexBufferEntryNVX malloc(MemoryArena arena) {
+        return wrap(VkObjectTableVertexBufferEntryNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkObjectTableVertexBufferEntryNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkObjectTableVertexBufferEntryNVX calloc(MemoryArena arena) {
+        return wrap(VkObjectTableVertexBufferEntryNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkObjectTableVertexBufferEntryNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkObjectTableVertexBufferEntryNVX extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkObjectTableVertexBufferEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableVertexBufferEntryNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkObjectTableVertexBufferEntryNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkObjectTableVertexBufferEntryNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #type}. */
@@ -344,6 +382,32 @@ public class VkObjectTableVertexBufferEntryNVX extends Struct implements NativeR
         /** Sets the specified value to the {@code buffer} field. */
         public VkObjectTableVertexBufferEntryNVX.Buffer buffer(@NativeType("VkBuffer") long value) { VkObjectTableVertexBufferEntryNVX.nbuffer(address(), value); return this; }
 
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer getType(int[] dst) { gather(VkObjectTableVertexBufferEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer getType(IntBuffer dst) { gather(VkObjectTableVertexBufferEntryNVX.TYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer getFlags(int[] dst) { gather(VkObjectTableVertexBufferEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer getFlags(IntBuffer dst) { gather(VkObjectTableVertexBufferEntryNVX.FLAGS, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer getBuffer(long[] dst) { gather(VkObjectTableVertexBufferEntryNVX.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer getBuffer(LongBuffer dst) { gather(VkObjectTableVertexBufferEntryNVX.BUFFER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer putType(int[] src) { scatter(VkObjectTableVertexBufferEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer putType(IntBuffer src) { scatter(VkObjectTableVertexBufferEntryNVX.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer putFlags(int[] src) { scatter(VkObjectTableVertexBufferEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer putFlags(IntBuffer src) { scatter(VkObjectTableVertexBufferEntryNVX.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer putBuffer(long[] src) { scatter(VkObjectTableVertexBufferEntryNVX.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkObjectTableVertexBufferEntryNVX.Buffer putBuffer(LongBuffer src) { scatter(VkObjectTableVertexBufferEntryNVX.BUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
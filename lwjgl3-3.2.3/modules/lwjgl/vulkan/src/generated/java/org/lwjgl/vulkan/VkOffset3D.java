@@ -222,6 +222,24 @@ public class VkOffset3D extends Struct implements NativeResource {
         return wrap(VkOffset3D.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkOffset3D} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkOffset3D malloc(MemoryArena arena) {
+        return wrap(VkOffset3D.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkOffset3D} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkOffset3D calloc(MemoryArena arena) {
+        return wrap(VkOffset3D.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkOffset3D.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -260,6 +278,26 @@ public class VkOffset3D extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkOffset3D.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkOffset3D.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkOffset3D.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkOffset3D.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -331,6 +369,32 @@ public class VkOffset3D extends Struct implements NativeResource {
         /** Sets the specified value to the {@code z} field. */
         public VkOffset3D.Buffer z(@NativeType("int32_t") int value) { VkOffset3D.nz(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VkOffset3D.Buffer getX(int[] dst) { gather(VkOffset3D.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VkOffset3D.Buffer getX(IntBuffer dst) { gather(VkOffset3D.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VkOffset3D.Buffer getY(int[] dst) { gather(VkOffset3D.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VkOffset3D.Buffer getY(IntBuffer dst) { gather(VkOffset3D.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public VkOffset3D.Buffer getZ(int[] dst) { gather(VkOffset3D.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public VkOffset3D.Buffer getZ(IntBuffer dst) { gather(VkOffset3D.Z, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VkOffset3D.Buffer putX(int[] src) { scatter(VkOffset3D.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VkOffset3D.Buffer putX(IntBuffer src) { scatter(VkOffset3D.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VkOffset3D.Buffer putY(int[] src) { scatter(VkOffset3D.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VkOffset3D.Buffer putY(IntBuffer src) { scatter(VkOffset3D.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public VkOffset3D.Buffer putZ(int[] src) { scatter(VkOffset3D.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public VkOffset3D.Buffer putZ(IntBuffer src) { scatter(VkOffset3D.Z, src); return this; }
+
     }
 
 }
\ No newline at end of file
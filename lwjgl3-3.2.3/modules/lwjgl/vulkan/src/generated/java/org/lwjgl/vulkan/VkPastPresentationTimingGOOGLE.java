@@ -216,6 +216,24 @@ public class VkPastPresentationTimingGOOGLE extends Struct implements NativeReso
         return wrap(VkPastPresentationTimingGOOGLE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPastPresentationTimingGOOGLE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPastPresentationTimingGOOGLE malloc(MemoryArena arena) {
+        return wrap(VkPastPresentationTimingGOOGLE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPastPresentationTimingGOOGLE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPastPresentationTimingGOOGLE calloc(MemoryArena arena) {
+        return wrap(VkPastPresentationTimingGOOGLE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPastPresentationTimingGOOGLE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -254,6 +272,26 @@ public class VkPastPresentationTimingGOOGLE extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPastPresentationTimingGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPastPresentationTimingGOOGLE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPastPresentationTimingGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPastPresentationTimingGOOGLE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #presentID}. */
@@ -321,6 +359,27 @@ public class VkPastPresentationTimingGOOGLE extends Struct implements NativeReso
         @NativeType("uint64_t")
         public long presentMargin() { return VkPastPresentationTimingGOOGLE.npresentMargin(address()); }
 
+        /** Copies the {@code presentID} field of the structs between the current position and limit to the specified array. */
+        public VkPastPresentationTimingGOOGLE.Buffer getPresentID(int[] dst) { gather(VkPastPresentationTimingGOOGLE.PRESENTID, dst); return this; }
+        /** Copies the {@code presentID} field of the structs between the current position and limit to the specified buffer. */
+        public VkPastPresentationTimingGOOGLE.Buffer getPresentID(IntBuffer dst) { gather(VkPastPresentationTimingGOOGLE.PRESENTID, dst); return this; }
+        /** Copies the {@code desiredPresentTime} field of the structs between the current position and limit to the specified array. */
+        public VkPastPresentationTimingGOOGLE.Buffer getDesiredPresentTime(long[] dst) { gather(VkPastPresentationTimingGOOGLE.DESIREDPRESENTTIME, dst); return this; }
+        /** Copies the {@code desiredPresentTime} field of the structs between the current position and limit to the specified buffer. */
+        public VkPastPresentationTimingGOOGLE.Buffer getDesiredPresentTime(LongBuffer dst) { gather(VkPastPresentationTimingGOOGLE.DESIREDPRESENTTIME, dst); return this; }
+        /** Copies the {@code actualPresentTime} field of the structs between the current position and limit to the specified array. */
+        public VkPastPresentationTimingGOOGLE.Buffer getActualPresentTime(long[] dst) { gather(VkPastPresentationTimingGOOGLE.ACTUALPRESENTTIME, dst); return this; }
+        /** Copies the {@code actualPresentTime} field of the structs between the current position and limit to the specified buffer. */
+        public VkPastPresentationTimingGOOGLE.Buffer getActualPresentTime(LongBuffer dst) { gather(VkPastPresentationTimingGOOGLE.ACTUALPRESENTTIME, dst); return this; }
+        /** Copies the {@code earliestPresentTime} field of the structs between the current position and limit to the specified array. */
+        public VkPastPresentationTimingGOOGLE.Buffer getEarliestPresentTime(long[] dst) { gather(VkPastPresentationTimingGOOGLE.EARLIESTPRESENTTIME, dst); return this; }
+        /** Copies the {@code earliestPresentTime} field of the structs between the current position and limit to the specified buffer. */
+        public VkPastPresentationTimingGOOGLE.Buffer getEarliestPresentTime(LongBuffer dst) { gather(VkPastPresentationTimingGOOGLE.EARLIESTPRESENTTIME, dst); return this; }
+        /** Copies the {@code presentMargin} field of the structs between the current position and limit to the specified array. */
+        public VkPastPresentationTimingGOOGLE.Buffer getPresentMargin(long[] dst) { gather(VkPastPresentationTimingGOOGLE.PRESENTMARGIN, dst); return this; }
+        /** Copies the {@code presentMargin} field of the structs between the current position and limit to the specified buffer. */
+        public VkPastPresentationTimingGOOGLE.Buffer getPresentMargin(LongBuffer dst) { gather(VkPastPresentationTimingGOOGLE.PRESENTMARGIN, dst); return this; }
+
     }
 
 }
\ No newline at end of file
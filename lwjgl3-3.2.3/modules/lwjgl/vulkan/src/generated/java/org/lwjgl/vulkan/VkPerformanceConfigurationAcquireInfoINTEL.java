@@ -234,6 +234,24 @@ public class VkPerformanceConfigurationAcquireInfoINTEL extends Struct implement
         return wrap(VkPerformanceConfigurationAcquireInfoINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPerformanceConfigurationAcquireInfoINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceConfigurationAcquireInfoINTEL malloc(MemoryArena arena) {
+        return wrap(VkPerformanceConfigurationAcquireInfoINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPerformanceConfigurationAcquireInfoINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceConfigurationAcquireInfoINTEL calloc(MemoryArena arena) {
+        return wrap(VkPerformanceConfigurationAcquireInfoINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPerformanceConfigurationAcquireInfoINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkPerformanceConfigurationAcquireInfoINTEL extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPerformanceConfigurationAcquireInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceConfigurationAcquireInfoINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPerformanceConfigurationAcquireInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceConfigurationAcquireInfoINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkPerformanceConfigurationAcquireInfoINTEL extends Struct implement
         /** Sets the specified value to the {@code type} field. */
         public VkPerformanceConfigurationAcquireInfoINTEL.Buffer type(@NativeType("VkPerformanceConfigurationTypeINTEL") int value) { VkPerformanceConfigurationAcquireInfoINTEL.ntype(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer getSType(int[] dst) { gather(VkPerformanceConfigurationAcquireInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer getSType(IntBuffer dst) { gather(VkPerformanceConfigurationAcquireInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer getType(int[] dst) { gather(VkPerformanceConfigurationAcquireInfoINTEL.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer getType(IntBuffer dst) { gather(VkPerformanceConfigurationAcquireInfoINTEL.TYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer putSType(int[] src) { scatter(VkPerformanceConfigurationAcquireInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer putSType(IntBuffer src) { scatter(VkPerformanceConfigurationAcquireInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer putType(int[] src) { scatter(VkPerformanceConfigurationAcquireInfoINTEL.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkPerformanceConfigurationAcquireInfoINTEL.Buffer putType(IntBuffer src) { scatter(VkPerformanceConfigurationAcquireInfoINTEL.TYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkPerformanceMarkerInfoINTEL extends Struct implements NativeResour
         return wrap(VkPerformanceMarkerInfoINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPerformanceMarkerInfoINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceMarkerInfoINTEL malloc(MemoryArena arena) {
+        return wrap(VkPerformanceMarkerInfoINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPerformanceMarkerInfoINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceMarkerInfoINTEL calloc(MemoryArena arena) {
+        return wrap(VkPerformanceMarkerInfoINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPerformanceMarkerInfoINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkPerformanceMarkerInfoINTEL extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPerformanceMarkerInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceMarkerInfoINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPerformanceMarkerInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceMarkerInfoINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,24 @@ public class VkPerformanceMarkerInfoINTEL extends Struct implements NativeResour
         /** Sets the specified value to the {@code marker} field. */
         public VkPerformanceMarkerInfoINTEL.Buffer marker(@NativeType("uint64_t") long value) { VkPerformanceMarkerInfoINTEL.nmarker(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceMarkerInfoINTEL.Buffer getSType(int[] dst) { gather(VkPerformanceMarkerInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceMarkerInfoINTEL.Buffer getSType(IntBuffer dst) { gather(VkPerformanceMarkerInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code marker} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceMarkerInfoINTEL.Buffer getMarker(long[] dst) { gather(VkPerformanceMarkerInfoINTEL.MARKER, dst); return this; }
+        /** Copies the {@code marker} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceMarkerInfoINTEL.Buffer getMarker(LongBuffer dst) { gather(VkPerformanceMarkerInfoINTEL.MARKER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceMarkerInfoINTEL.Buffer putSType(int[] src) { scatter(VkPerformanceMarkerInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceMarkerInfoINTEL.Buffer putSType(IntBuffer src) { scatter(VkPerformanceMarkerInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code marker} field of the structs between the current position and limit. */
+        public VkPerformanceMarkerInfoINTEL.Buffer putMarker(long[] src) { scatter(VkPerformanceMarkerInfoINTEL.MARKER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code marker} field of the structs between the current position and limit. */
+        public VkPerformanceMarkerInfoINTEL.Buffer putMarker(LongBuffer src) { scatter(VkPerformanceMarkerInfoINTEL.MARKER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -256,6 +256,24 @@ public class VkPerformanceOverrideInfoINTEL extends Struct implements NativeReso
         return wrap(VkPerformanceOverrideInfoINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPerformanceOverrideInfoINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceOverrideInfoINTEL malloc(MemoryArena arena) {
+        return wrap(VkPerformanceOverrideInfoINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPerformanceOverrideInfoINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceOverrideInfoINTEL calloc(MemoryArena arena) {
+        return wrap(VkPerformanceOverrideInfoINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPerformanceOverrideInfoINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class VkPerformanceOverrideInfoINTEL extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPerformanceOverrideInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceOverrideInfoINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPerformanceOverrideInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceOverrideInfoINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -383,6 +421,32 @@ public class VkPerformanceOverrideInfoINTEL extends Struct implements NativeReso
         /** Sets the specified value to the {@code parameter} field. */
         public VkPerformanceOverrideInfoINTEL.Buffer parameter(@NativeType("uint64_t") long value) { VkPerformanceOverrideInfoINTEL.nparameter(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceOverrideInfoINTEL.Buffer getSType(int[] dst) { gather(VkPerformanceOverrideInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceOverrideInfoINTEL.Buffer getSType(IntBuffer dst) { gather(VkPerformanceOverrideInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceOverrideInfoINTEL.Buffer getType(int[] dst) { gather(VkPerformanceOverrideInfoINTEL.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceOverrideInfoINTEL.Buffer getType(IntBuffer dst) { gather(VkPerformanceOverrideInfoINTEL.TYPE, dst); return this; }
+        /** Copies the {@code parameter} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceOverrideInfoINTEL.Buffer getParameter(long[] dst) { gather(VkPerformanceOverrideInfoINTEL.PARAMETER, dst); return this; }
+        /** Copies the {@code parameter} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceOverrideInfoINTEL.Buffer getParameter(LongBuffer dst) { gather(VkPerformanceOverrideInfoINTEL.PARAMETER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceOverrideInfoINTEL.Buffer putSType(int[] src) { scatter(VkPerformanceOverrideInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceOverrideInfoINTEL.Buffer putSType(IntBuffer src) { scatter(VkPerformanceOverrideInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkPerformanceOverrideInfoINTEL.Buffer putType(int[] src) { scatter(VkPerformanceOverrideInfoINTEL.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkPerformanceOverrideInfoINTEL.Buffer putType(IntBuffer src) { scatter(VkPerformanceOverrideInfoINTEL.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code parameter} field of the structs between the current position and limit. */
+        public VkPerformanceOverrideInfoINTEL.Buffer putParameter(long[] src) { scatter(VkPerformanceOverrideInfoINTEL.PARAMETER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code parameter} field of the structs between the current position and limit. */
+        public VkPerformanceOverrideInfoINTEL.Buffer putParameter(LongBuffer src) { scatter(VkPerformanceOverrideInfoINTEL.PARAMETER, src); return this; }
+
     }
 
 }
\ No newline at end of file
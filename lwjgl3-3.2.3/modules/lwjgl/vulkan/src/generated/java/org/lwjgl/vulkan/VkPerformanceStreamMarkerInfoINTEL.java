@@ -239,6 +239,24 @@ public class VkPerformanceStreamMarkerInfoINTEL extends Struct implements Native
         return wrap(VkPerformanceStreamMarkerInfoINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPerformanceStreamMarkerInfoINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceStreamMarkerInfoINTEL malloc(MemoryArena arena) {
+        return wrap(VkPerformanceStreamMarkerInfoINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPerformanceStreamMarkerInfoINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceStreamMarkerInfoINTEL calloc(MemoryArena arena) {
+        return wrap(VkPerformanceStreamMarkerInfoINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPerformanceStreamMarkerInfoINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VkPerformanceStreamMarkerInfoINTEL extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPerformanceStreamMarkerInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceStreamMarkerInfoINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPerformanceStreamMarkerInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceStreamMarkerInfoINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -348,6 +386,24 @@ public class VkPerformanceStreamMarkerInfoINTEL extends Struct implements Native
         /** Sets the specified value to the {@code marker} field. */
         public VkPerformanceStreamMarkerInfoINTEL.Buffer marker(@NativeType("uint32_t") int value) { VkPerformanceStreamMarkerInfoINTEL.nmarker(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer getSType(int[] dst) { gather(VkPerformanceStreamMarkerInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer getSType(IntBuffer dst) { gather(VkPerformanceStreamMarkerInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code marker} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer getMarker(int[] dst) { gather(VkPerformanceStreamMarkerInfoINTEL.MARKER, dst); return this; }
+        /** Copies the {@code marker} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer getMarker(IntBuffer dst) { gather(VkPerformanceStreamMarkerInfoINTEL.MARKER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer putSType(int[] src) { scatter(VkPerformanceStreamMarkerInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer putSType(IntBuffer src) { scatter(VkPerformanceStreamMarkerInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code marker} field of the structs between the current position and limit. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer putMarker(int[] src) { scatter(VkPerformanceStreamMarkerInfoINTEL.MARKER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code marker} field of the structs between the current position and limit. */
+        public VkPerformanceStreamMarkerInfoINTEL.Buffer putMarker(IntBuffer src) { scatter(VkPerformanceStreamMarkerInfoINTEL.MARKER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -237,6 +237,24 @@ public class VkPerformanceValueDataINTEL extends Struct implements NativeResourc
         return wrap(VkPerformanceValueDataINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPerformanceValueDataINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceValueDataINTEL malloc(MemoryArena arena) {
+        return wrap(VkPerformanceValueDataINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPerformanceValueDataINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPerformanceValueDataINTEL calloc(MemoryArena arena) {
+        return wrap(VkPerformanceValueDataINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPerformanceValueDataINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class VkPerformanceValueDataINTEL extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPerformanceValueDataINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceValueDataINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPerformanceValueDataINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPerformanceValueDataINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #value32}. */
@@ -367,6 +405,32 @@ public class VkPerformanceValueDataINTEL extends Struct implements NativeResourc
         /** Sets the address of the specified {@link ByteBuffer} to the {@code valueString} field. */
         public VkPerformanceValueDataINTEL.Buffer valueString(@NativeType("char const *") ByteBuffer value) { VkPerformanceValueDataINTEL.nvalueString(address(), value); return this; }
 
+        /** Copies the {@code value32} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceValueDataINTEL.Buffer getValue32(int[] dst) { gather(VkPerformanceValueDataINTEL.VALUE32, dst); return this; }
+        /** Copies the {@code value32} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceValueDataINTEL.Buffer getValue32(IntBuffer dst) { gather(VkPerformanceValueDataINTEL.VALUE32, dst); return this; }
+        /** Copies the {@code value64} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceValueDataINTEL.Buffer getValue64(long[] dst) { gather(VkPerformanceValueDataINTEL.VALUE64, dst); return this; }
+        /** Copies the {@code value64} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceValueDataINTEL.Buffer getValue64(LongBuffer dst) { gather(VkPerformanceValueDataINTEL.VALUE64, dst); return this; }
+        /** Copies the {@code valueFloat} field of the structs between the current position and limit to the specified array. */
+        public VkPerformanceValueDataINTEL.Buffer getValueFloat(float[] dst) { gather(VkPerformanceValueDataINTEL.VALUEFLOAT, dst); return this; }
+        /** Copies the {@code valueFloat} field of the structs between the current position and limit to the specified buffer. */
+        public VkPerformanceValueDataINTEL.Buffer getValueFloat(FloatBuffer dst) { gather(VkPerformanceValueDataINTEL.VALUEFLOAT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code value32} field of the structs between the current position and limit. */
+        public VkPerformanceValueDataINTEL.Buffer putValue32(int[] src) { scatter(VkPerformanceValueDataINTEL.VALUE32, src); return this; }
+        /** Copies the values in the specified buffer to the {@code value32} field of the structs between the current position and limit. */
+        public VkPerformanceValueDataINTEL.Buffer putValue32(IntBuffer src) { scatter(VkPerformanceValueDataINTEL.VALUE32, src); return this; }
+        /** Copies the values in the specified array to the {@code value64} field of the structs between the current position and limit. */
+        public VkPerformanceValueDataINTEL.Buffer putValue64(long[] src) { scatter(VkPerformanceValueDataINTEL.VALUE64, src); return this; }
+        /** Copies the values in the specified buffer to the {@code value64} field of the structs between the current position and limit. */
+        public VkPerformanceValueDataINTEL.Buffer putValue64(LongBuffer src) { scatter(VkPerformanceValueDataINTEL.VALUE64, src); return this; }
+        /** Copies the values in the specified array to the {@code valueFloat} field of the structs between the current position and limit. */
+        public VkPerformanceValueDataINTEL.Buffer putValueFloat(float[] src) { scatter(VkPerformanceValueDataINTEL.VALUEFLOAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code valueFloat} field of the structs between the current position and limit. */
+        public VkPerformanceValueDataINTEL.Buffer putValueFloat(FloatBuffer src) { scatter(VkPerformanceValueDataINTEL.VALUEFLOAT, src); return this; }
+
     }
 
 }
\ No newline at end of file
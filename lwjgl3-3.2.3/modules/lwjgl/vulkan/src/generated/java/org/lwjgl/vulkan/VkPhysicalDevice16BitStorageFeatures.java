@@ -264,6 +264,24 @@ public class VkPhysicalDevice16BitStorageFeatures extends Struct implements Nati
         return wrap(VkPhysicalDevice16BitStorageFeatures.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDevice16BitStorageFeatures} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevice16BitStorageFeatures malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevice16BitStorageFeatures.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDevice16BitStorageFeatures} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevice16BitStorageFeatures calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevice16BitStorageFeatures.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDevice16BitStorageFeatures.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class VkPhysicalDevice16BitStorageFeatures extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDevice16BitStorageFeatures.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevice16BitStorageFeatures.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDevice16BitStorageFeatures.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevice16BitStorageFeatures.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -400,6 +438,16 @@ public class VkPhysicalDevice16BitStorageFeatures extends Struct implements Nati
         /** Sets the specified value to the {@code storageInputOutput16} field. */
         public VkPhysicalDevice16BitStorageFeatures.Buffer storageInputOutput16(@NativeType("VkBool32") boolean value) { VkPhysicalDevice16BitStorageFeatures.nstorageInputOutput16(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevice16BitStorageFeatures.Buffer getSType(int[] dst) { gather(VkPhysicalDevice16BitStorageFeatures.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevice16BitStorageFeatures.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDevice16BitStorageFeatures.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevice16BitStorageFeatures.Buffer putSType(int[] src) { scatter(VkPhysicalDevice16BitStorageFeatures.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevice16BitStorageFeatures.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDevice16BitStorageFeatures.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class VkPhysicalDevice8BitStorageFeaturesKHR extends Struct implements Na
         return wrap(VkPhysicalDevice8BitStorageFeaturesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDevice8BitStorageFeaturesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevice8BitStorageFeaturesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevice8BitStorageFeaturesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDevice8BitStorageFeaturesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevice8BitStorageFeaturesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevice8BitStorageFeaturesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDevice8BitStorageFeaturesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPhysicalDevice8BitStorageFeaturesKHR extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDevice8BitStorageFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevice8BitStorageFeaturesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDevice8BitStorageFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevice8BitStorageFeaturesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -379,6 +417,16 @@ public class VkPhysicalDevice8BitStorageFeaturesKHR extends Struct implements Na
         /** Sets the specified value to the {@code storagePushConstant8} field. */
         public VkPhysicalDevice8BitStorageFeaturesKHR.Buffer storagePushConstant8(@NativeType("VkBool32") boolean value) { VkPhysicalDevice8BitStorageFeaturesKHR.nstoragePushConstant8(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevice8BitStorageFeaturesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDevice8BitStorageFeaturesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevice8BitStorageFeaturesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDevice8BitStorageFeaturesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevice8BitStorageFeaturesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDevice8BitStorageFeaturesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevice8BitStorageFeaturesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDevice8BitStorageFeaturesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
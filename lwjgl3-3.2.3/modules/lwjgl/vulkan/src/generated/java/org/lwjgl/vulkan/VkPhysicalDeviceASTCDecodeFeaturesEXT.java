@@ -230,6 +230,24 @@ public class VkPhysicalDeviceASTCDecodeFeaturesEXT extends Struct implements Nat
         return wrap(VkPhysicalDeviceASTCDecodeFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceASTCDecodeFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceASTCDecodeFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceASTCDecodeFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceASTCDecodeFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceASTCDecodeFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceASTCDecodeFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceASTCDecodeFeaturesEXT extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceASTCDecodeFeaturesEXT extends Struct implements Nat
         /** Sets the specified value to the {@code decodeModeSharedExponent} field. */
         public VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer decodeModeSharedExponent(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceASTCDecodeFeaturesEXT.ndecodeModeSharedExponent(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceASTCDecodeFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceASTCDecodeFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceASTCDecodeFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceASTCDecodeFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceASTCDecodeFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT extends Struct im
         return wrap(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT extends Struct im
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT extends Struct im
         /** Sets the specified value to the {@code advancedBlendCoherentOperations} field. */
         public VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer advancedBlendCoherentOperations(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.nadvancedBlendCoherentOperations(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceBlendOperationAdvancedFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
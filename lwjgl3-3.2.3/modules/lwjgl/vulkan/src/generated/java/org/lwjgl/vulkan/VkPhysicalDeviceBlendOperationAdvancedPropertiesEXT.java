@@ -268,6 +268,24 @@ public class VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT extends Struct
         return wrap(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -306,6 +324,26 @@ public class VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -398,6 +436,20 @@ public class VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT extends Struct
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code advancedBlendMaxColorAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer getAdvancedBlendMaxColorAttachments(int[] dst) { gather(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.ADVANCEDBLENDMAXCOLORATTACHMENTS, dst); return this; }
+        /** Copies the {@code advancedBlendMaxColorAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer getAdvancedBlendMaxColorAttachments(IntBuffer dst) { gather(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.ADVANCEDBLENDMAXCOLORATTACHMENTS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceBlendOperationAdvancedPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -261,6 +261,24 @@ public class VkPhysicalDeviceBufferDeviceAddressFeaturesEXT extends Struct imple
         return wrap(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceBufferDeviceAddressFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBufferDeviceAddressFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceBufferDeviceAddressFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBufferDeviceAddressFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkPhysicalDeviceBufferDeviceAddressFeaturesEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -388,6 +426,16 @@ public class VkPhysicalDeviceBufferDeviceAddressFeaturesEXT extends Struct imple
         /** Sets the specified value to the {@code bufferDeviceAddressMultiDevice} field. */
         public VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer bufferDeviceAddressMultiDevice(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.nbufferDeviceAddressMultiDevice(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceBufferDeviceAddressFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -226,6 +226,24 @@ public class VkPhysicalDeviceCoherentMemoryFeaturesAMD extends Struct implements
         return wrap(VkPhysicalDeviceCoherentMemoryFeaturesAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceCoherentMemoryFeaturesAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoherentMemoryFeaturesAMD malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCoherentMemoryFeaturesAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceCoherentMemoryFeaturesAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoherentMemoryFeaturesAMD calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCoherentMemoryFeaturesAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -264,6 +282,26 @@ public class VkPhysicalDeviceCoherentMemoryFeaturesAMD extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -335,6 +373,16 @@ public class VkPhysicalDeviceCoherentMemoryFeaturesAMD extends Struct implements
         /** Sets the specified value to the {@code deviceCoherentMemory} field. */
         public VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer deviceCoherentMemory(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceCoherentMemoryFeaturesAMD.ndeviceCoherentMemory(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceCoherentMemoryFeaturesAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceCoherentMemoryFeaturesAMD.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceCoherentMemoryFeaturesAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCoherentMemoryFeaturesAMD.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceCoherentMemoryFeaturesAMD.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -244,6 +244,24 @@ public class VkPhysicalDeviceComputeShaderDerivativesFeaturesNV extends Struct i
         return wrap(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceComputeShaderDerivativesFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceComputeShaderDerivativesFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceComputeShaderDerivativesFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceComputeShaderDerivativesFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -282,6 +300,26 @@ public class VkPhysicalDeviceComputeShaderDerivativesFeaturesNV extends Struct i
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -362,6 +400,16 @@ public class VkPhysicalDeviceComputeShaderDerivativesFeaturesNV extends Struct i
         /** Sets the specified value to the {@code computeDerivativeGroupLinear} field. */
         public VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer computeDerivativeGroupLinear(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.ncomputeDerivativeGroupLinear(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceComputeShaderDerivativesFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -244,6 +244,24 @@ public class VkPhysicalDeviceConditionalRenderingFeaturesEXT extends Struct impl
         return wrap(VkPhysicalDeviceConditionalRenderingFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceConditionalRenderingFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConditionalRenderingFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceConditionalRenderingFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceConditionalRenderingFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConditionalRenderingFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceConditionalRenderingFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -282,6 +300,26 @@ public class VkPhysicalDeviceConditionalRenderingFeaturesEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -362,6 +400,16 @@ public class VkPhysicalDeviceConditionalRenderingFeaturesEXT extends Struct impl
         /** Sets the specified value to the {@code inheritedConditionalRendering} field. */
         public VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer inheritedConditionalRendering(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceConditionalRenderingFeaturesEXT.ninheritedConditionalRendering(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceConditionalRenderingFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceConditionalRenderingFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceConditionalRenderingFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceConditionalRenderingFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceConditionalRenderingFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -289,6 +289,24 @@ public class VkPhysicalDeviceConservativeRasterizationPropertiesEXT extends Stru
         return wrap(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceConservativeRasterizationPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConservativeRasterizationPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceConservativeRasterizationPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConservativeRasterizationPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class VkPhysicalDeviceConservativeRasterizationPropertiesEXT extends Stru
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -431,6 +469,28 @@ public class VkPhysicalDeviceConservativeRasterizationPropertiesEXT extends Stru
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceConservativeRasterizationPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code primitiveOverestimationSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getPrimitiveOverestimationSize(float[] dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.PRIMITIVEOVERESTIMATIONSIZE, dst); return this; }
+        /** Copies the {@code primitiveOverestimationSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getPrimitiveOverestimationSize(FloatBuffer dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.PRIMITIVEOVERESTIMATIONSIZE, dst); return this; }
+        /** Copies the {@code maxExtraPrimitiveOverestimationSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getMaxExtraPrimitiveOverestimationSize(float[] dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.MAXEXTRAPRIMITIVEOVERESTIMATIONSIZE, dst); return this; }
+        /** Copies the {@code maxExtraPrimitiveOverestimationSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getMaxExtraPrimitiveOverestimationSize(FloatBuffer dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.MAXEXTRAPRIMITIVEOVERESTIMATIONSIZE, dst); return this; }
+        /** Copies the {@code extraPrimitiveOverestimationSizeGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getExtraPrimitiveOverestimationSizeGranularity(float[] dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.EXTRAPRIMITIVEOVERESTIMATIONSIZEGRANULARITY, dst); return this; }
+        /** Copies the {@code extraPrimitiveOverestimationSizeGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer getExtraPrimitiveOverestimationSizeGranularity(FloatBuffer dst) { gather(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.EXTRAPRIMITIVEOVERESTIMATIONSIZEGRANULARITY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceConservativeRasterizationPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceConservativeRasterizationPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -242,6 +242,24 @@ public class VkPhysicalDeviceCooperativeMatrixFeaturesNV extends Struct implemen
         return wrap(VkPhysicalDeviceCooperativeMatrixFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceCooperativeMatrixFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCooperativeMatrixFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceCooperativeMatrixFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCooperativeMatrixFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -280,6 +298,26 @@ public class VkPhysicalDeviceCooperativeMatrixFeaturesNV extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -360,6 +398,16 @@ public class VkPhysicalDeviceCooperativeMatrixFeaturesNV extends Struct implemen
         /** Sets the specified value to the {@code cooperativeMatrixRobustBufferAccess} field. */
         public VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer cooperativeMatrixRobustBufferAccess(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceCooperativeMatrixFeaturesNV.ncooperativeMatrixRobustBufferAccess(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceCooperativeMatrixFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceCooperativeMatrixFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceCooperativeMatrixFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCooperativeMatrixFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceCooperativeMatrixFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
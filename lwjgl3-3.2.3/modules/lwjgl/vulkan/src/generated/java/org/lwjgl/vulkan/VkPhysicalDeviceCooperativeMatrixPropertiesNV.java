@@ -228,6 +228,24 @@ public class VkPhysicalDeviceCooperativeMatrixPropertiesNV extends Struct implem
         return wrap(VkPhysicalDeviceCooperativeMatrixPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceCooperativeMatrixPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCooperativeMatrixPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceCooperativeMatrixPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCooperativeMatrixPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceCooperativeMatrixPropertiesNV extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDeviceCooperativeMatrixPropertiesNV extends Struct implem
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceCooperativeMatrixPropertiesNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceCooperativeMatrixPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceCooperativeMatrixPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code cooperativeMatrixSupportedStages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer getCooperativeMatrixSupportedStages(int[] dst) { gather(VkPhysicalDeviceCooperativeMatrixPropertiesNV.COOPERATIVEMATRIXSUPPORTEDSTAGES, dst); return this; }
+        /** Copies the {@code cooperativeMatrixSupportedStages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer getCooperativeMatrixSupportedStages(IntBuffer dst) { gather(VkPhysicalDeviceCooperativeMatrixPropertiesNV.COOPERATIVEMATRIXSUPPORTEDSTAGES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceCooperativeMatrixPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCooperativeMatrixPropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceCooperativeMatrixPropertiesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
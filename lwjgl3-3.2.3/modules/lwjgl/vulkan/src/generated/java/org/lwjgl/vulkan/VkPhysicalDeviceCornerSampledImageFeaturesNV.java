@@ -230,6 +230,24 @@ public class VkPhysicalDeviceCornerSampledImageFeaturesNV extends Struct impleme
         return wrap(VkPhysicalDeviceCornerSampledImageFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceCornerSampledImageFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCornerSampledImageFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCornerSampledImageFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceCornerSampledImageFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCornerSampledImageFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCornerSampledImageFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceCornerSampledImageFeaturesNV extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceCornerSampledImageFeaturesNV extends Struct impleme
         /** Sets the specified value to the {@code cornerSampledImage} field. */
         public VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer cornerSampledImage(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceCornerSampledImageFeaturesNV.ncornerSampledImage(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceCornerSampledImageFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceCornerSampledImageFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceCornerSampledImageFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCornerSampledImageFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceCornerSampledImageFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
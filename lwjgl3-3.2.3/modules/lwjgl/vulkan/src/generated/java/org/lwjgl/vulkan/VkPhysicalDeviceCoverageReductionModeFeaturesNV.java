@@ -230,6 +230,24 @@ public class VkPhysicalDeviceCoverageReductionModeFeaturesNV extends Struct impl
         return wrap(VkPhysicalDeviceCoverageReductionModeFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceCoverageReductionModeFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoverageReductionModeFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCoverageReductionModeFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceCoverageReductionModeFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoverageReductionModeFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceCoverageReductionModeFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceCoverageReductionModeFeaturesNV extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceCoverageReductionModeFeaturesNV extends Struct impl
         /** Sets the specified value to the {@code coverageReductionMode} field. */
         public VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer coverageReductionMode(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceCoverageReductionModeFeaturesNV.ncoverageReductionMode(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceCoverageReductionModeFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceCoverageReductionModeFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceCoverageReductionModeFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceCoverageReductionModeFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceCoverageReductionModeFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
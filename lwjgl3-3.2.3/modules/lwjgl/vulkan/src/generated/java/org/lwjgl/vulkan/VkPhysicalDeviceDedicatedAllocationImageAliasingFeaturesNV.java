@@ -230,6 +230,24 @@ public class VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV extends
         return wrap(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV extends
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV extends
         /** Sets the specified value to the {@code dedicatedAllocationImageAliasing} field. */
         public VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer dedicatedAllocationImageAliasing(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.ndedicatedAllocationImageAliasing(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceDedicatedAllocationImageAliasingFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -246,6 +246,24 @@ public class VkPhysicalDeviceDepthStencilResolvePropertiesKHR extends Struct imp
         return wrap(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceDepthStencilResolvePropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDepthStencilResolvePropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceDepthStencilResolvePropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDepthStencilResolvePropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class VkPhysicalDeviceDepthStencilResolvePropertiesKHR extends Struct imp
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -366,6 +404,24 @@ public class VkPhysicalDeviceDepthStencilResolvePropertiesKHR extends Struct imp
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceDepthStencilResolvePropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code supportedDepthResolveModes} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer getSupportedDepthResolveModes(int[] dst) { gather(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.SUPPORTEDDEPTHRESOLVEMODES, dst); return this; }
+        /** Copies the {@code supportedDepthResolveModes} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer getSupportedDepthResolveModes(IntBuffer dst) { gather(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.SUPPORTEDDEPTHRESOLVEMODES, dst); return this; }
+        /** Copies the {@code supportedStencilResolveModes} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer getSupportedStencilResolveModes(int[] dst) { gather(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.SUPPORTEDSTENCILRESOLVEMODES, dst); return this; }
+        /** Copies the {@code supportedStencilResolveModes} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer getSupportedStencilResolveModes(IntBuffer dst) { gather(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.SUPPORTEDSTENCILRESOLVEMODES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDepthStencilResolvePropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceDepthStencilResolvePropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -458,6 +458,24 @@ public class VkPhysicalDeviceDescriptorIndexingFeaturesEXT extends Struct implem
         return wrap(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceDescriptorIndexingFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceDescriptorIndexingFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -496,6 +514,26 @@ public class VkPhysicalDeviceDescriptorIndexingFeaturesEXT extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -738,6 +776,16 @@ public class VkPhysicalDeviceDescriptorIndexingFeaturesEXT extends Struct implem
         /** Sets the specified value to the {@code runtimeDescriptorArray} field. */
         public VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer runtimeDescriptorArray(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceDescriptorIndexingFeaturesEXT.nruntimeDescriptorArray(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDescriptorIndexingFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceDescriptorIndexingFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -404,6 +404,24 @@ public class VkPhysicalDeviceDescriptorIndexingPropertiesEXT extends Struct impl
         return wrap(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceDescriptorIndexingPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceDescriptorIndexingPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -442,6 +460,26 @@ public class VkPhysicalDeviceDescriptorIndexingPropertiesEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -619,6 +657,80 @@ public class VkPhysicalDeviceDescriptorIndexingPropertiesEXT extends Struct impl
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceDescriptorIndexingPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxUpdateAfterBindDescriptorsInAllPools} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxUpdateAfterBindDescriptorsInAllPools(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXUPDATEAFTERBINDDESCRIPTORSINALLPOOLS, dst); return this; }
+        /** Copies the {@code maxUpdateAfterBindDescriptorsInAllPools} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxUpdateAfterBindDescriptorsInAllPools(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXUPDATEAFTERBINDDESCRIPTORSINALLPOOLS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindSamplers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindSamplers(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSAMPLERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindSamplers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindSamplers(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSAMPLERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindUniformBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindUniformBuffers(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindUniformBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindUniformBuffers(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindStorageBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindStorageBuffers(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindStorageBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindStorageBuffers(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindSampledImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindSampledImages(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindSampledImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindSampledImages(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindStorageImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindStorageImages(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindStorageImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindStorageImages(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindInputAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindInputAttachments(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindInputAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindInputAttachments(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxPerStageUpdateAfterBindResources} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageUpdateAfterBindResources(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEUPDATEAFTERBINDRESOURCES, dst); return this; }
+        /** Copies the {@code maxPerStageUpdateAfterBindResources} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxPerStageUpdateAfterBindResources(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXPERSTAGEUPDATEAFTERBINDRESOURCES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindSamplers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindSamplers(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSAMPLERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindSamplers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindSamplers(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSAMPLERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindUniformBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindUniformBuffers(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindUniformBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindUniformBuffers(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindUniformBuffersDynamic} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindUniformBuffersDynamic(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDUNIFORMBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindUniformBuffersDynamic} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindUniformBuffersDynamic(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDUNIFORMBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindStorageBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindStorageBuffers(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindStorageBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindStorageBuffers(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindStorageBuffersDynamic} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindStorageBuffersDynamic(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSTORAGEBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindStorageBuffersDynamic} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindStorageBuffersDynamic(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSTORAGEBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindSampledImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindSampledImages(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindSampledImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindSampledImages(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindStorageImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindStorageImages(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindStorageImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindStorageImages(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindInputAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindInputAttachments(int[] dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindInputAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindInputAttachments(IntBuffer dst) { gather(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDINPUTATTACHMENTS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDescriptorIndexingPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceDescriptorIndexingPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
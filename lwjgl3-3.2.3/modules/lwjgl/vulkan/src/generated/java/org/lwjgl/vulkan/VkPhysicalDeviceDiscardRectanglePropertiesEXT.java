@@ -228,6 +228,24 @@ public class VkPhysicalDeviceDiscardRectanglePropertiesEXT extends Struct implem
         return wrap(VkPhysicalDeviceDiscardRectanglePropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceDiscardRectanglePropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDiscardRectanglePropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDiscardRectanglePropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceDiscardRectanglePropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDiscardRectanglePropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDiscardRectanglePropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceDiscardRectanglePropertiesEXT extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDeviceDiscardRectanglePropertiesEXT extends Struct implem
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceDiscardRectanglePropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceDiscardRectanglePropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceDiscardRectanglePropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxDiscardRectangles} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer getMaxDiscardRectangles(int[] dst) { gather(VkPhysicalDeviceDiscardRectanglePropertiesEXT.MAXDISCARDRECTANGLES, dst); return this; }
+        /** Copies the {@code maxDiscardRectangles} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer getMaxDiscardRectangles(IntBuffer dst) { gather(VkPhysicalDeviceDiscardRectanglePropertiesEXT.MAXDISCARDRECTANGLES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceDiscardRectanglePropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDiscardRectanglePropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceDiscardRectanglePropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -263,6 +263,24 @@ public class VkPhysicalDeviceDriverPropertiesKHR extends Struct implements Nativ
         return wrap(VkPhysicalDeviceDriverPropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceDriverPropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDriverPropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDriverPropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceDriverPropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDriverPropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceDriverPropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceDriverPropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class VkPhysicalDeviceDriverPropertiesKHR extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceDriverPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDriverPropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceDriverPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceDriverPropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -392,6 +430,20 @@ public class VkPhysicalDeviceDriverPropertiesKHR extends Struct implements Nativ
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceDriverPropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceDriverPropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDriverPropertiesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceDriverPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDriverPropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceDriverPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code driverID} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceDriverPropertiesKHR.Buffer getDriverID(int[] dst) { gather(VkPhysicalDeviceDriverPropertiesKHR.DRIVERID, dst); return this; }
+        /** Copies the {@code driverID} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceDriverPropertiesKHR.Buffer getDriverID(IntBuffer dst) { gather(VkPhysicalDeviceDriverPropertiesKHR.DRIVERID, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDriverPropertiesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceDriverPropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceDriverPropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceDriverPropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
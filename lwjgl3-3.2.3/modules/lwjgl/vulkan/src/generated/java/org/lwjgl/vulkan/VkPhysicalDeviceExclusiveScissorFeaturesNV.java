@@ -232,6 +232,24 @@ public class VkPhysicalDeviceExclusiveScissorFeaturesNV extends Struct implement
         return wrap(VkPhysicalDeviceExclusiveScissorFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceExclusiveScissorFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExclusiveScissorFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExclusiveScissorFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceExclusiveScissorFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExclusiveScissorFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExclusiveScissorFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class VkPhysicalDeviceExclusiveScissorFeaturesNV extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -341,6 +379,16 @@ public class VkPhysicalDeviceExclusiveScissorFeaturesNV extends Struct implement
         /** Sets the specified value to the {@code exclusiveScissor} field. */
         public VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer exclusiveScissor(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceExclusiveScissorFeaturesNV.nexclusiveScissor(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceExclusiveScissorFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceExclusiveScissorFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceExclusiveScissorFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExclusiveScissorFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceExclusiveScissorFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -261,6 +261,24 @@ public class VkPhysicalDeviceExternalBufferInfo extends Struct implements Native
         return wrap(VkPhysicalDeviceExternalBufferInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalBufferInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalBufferInfo malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalBufferInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalBufferInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalBufferInfo calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalBufferInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceExternalBufferInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkPhysicalDeviceExternalBufferInfo extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalBufferInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalBufferInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalBufferInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalBufferInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -388,6 +426,40 @@ public class VkPhysicalDeviceExternalBufferInfo extends Struct implements Native
         /** Sets the specified value to the {@code handleType} field. */
         public VkPhysicalDeviceExternalBufferInfo.Buffer handleType(@NativeType("VkExternalMemoryHandleTypeFlagBits") int value) { VkPhysicalDeviceExternalBufferInfo.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceExternalBufferInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceExternalBufferInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getFlags(int[] dst) { gather(VkPhysicalDeviceExternalBufferInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getFlags(IntBuffer dst) { gather(VkPhysicalDeviceExternalBufferInfo.FLAGS, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getUsage(int[] dst) { gather(VkPhysicalDeviceExternalBufferInfo.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getUsage(IntBuffer dst) { gather(VkPhysicalDeviceExternalBufferInfo.USAGE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getHandleType(int[] dst) { gather(VkPhysicalDeviceExternalBufferInfo.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer getHandleType(IntBuffer dst) { gather(VkPhysicalDeviceExternalBufferInfo.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceExternalBufferInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceExternalBufferInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putFlags(int[] src) { scatter(VkPhysicalDeviceExternalBufferInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putFlags(IntBuffer src) { scatter(VkPhysicalDeviceExternalBufferInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putUsage(int[] src) { scatter(VkPhysicalDeviceExternalBufferInfo.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putUsage(IntBuffer src) { scatter(VkPhysicalDeviceExternalBufferInfo.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putHandleType(int[] src) { scatter(VkPhysicalDeviceExternalBufferInfo.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalBufferInfo.Buffer putHandleType(IntBuffer src) { scatter(VkPhysicalDeviceExternalBufferInfo.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
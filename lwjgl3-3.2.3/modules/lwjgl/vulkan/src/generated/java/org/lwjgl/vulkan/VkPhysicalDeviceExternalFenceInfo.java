@@ -241,6 +241,24 @@ public class VkPhysicalDeviceExternalFenceInfo extends Struct implements NativeR
         return wrap(VkPhysicalDeviceExternalFenceInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalFenceInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalFenceInfo malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalFenceInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalFenceInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalFenceInfo calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalFenceInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceExternalFenceInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -279,6 +297,26 @@ public class VkPhysicalDeviceExternalFenceInfo extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalFenceInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalFenceInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalFenceInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalFenceInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -350,6 +388,24 @@ public class VkPhysicalDeviceExternalFenceInfo extends Struct implements NativeR
         /** Sets the specified value to the {@code handleType} field. */
         public VkPhysicalDeviceExternalFenceInfo.Buffer handleType(@NativeType("VkExternalFenceHandleTypeFlagBits") int value) { VkPhysicalDeviceExternalFenceInfo.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceExternalFenceInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceExternalFenceInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer getHandleType(int[] dst) { gather(VkPhysicalDeviceExternalFenceInfo.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer getHandleType(IntBuffer dst) { gather(VkPhysicalDeviceExternalFenceInfo.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceExternalFenceInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceExternalFenceInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer putHandleType(int[] src) { scatter(VkPhysicalDeviceExternalFenceInfo.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalFenceInfo.Buffer putHandleType(IntBuffer src) { scatter(VkPhysicalDeviceExternalFenceInfo.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -235,6 +235,24 @@ public class VkPhysicalDeviceExternalImageFormatInfo extends Struct implements N
         return wrap(VkPhysicalDeviceExternalImageFormatInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalImageFormatInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalImageFormatInfo malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalImageFormatInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalImageFormatInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalImageFormatInfo calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalImageFormatInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceExternalImageFormatInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkPhysicalDeviceExternalImageFormatInfo extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalImageFormatInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalImageFormatInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalImageFormatInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalImageFormatInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -344,6 +382,24 @@ public class VkPhysicalDeviceExternalImageFormatInfo extends Struct implements N
         /** Sets the specified value to the {@code handleType} field. */
         public VkPhysicalDeviceExternalImageFormatInfo.Buffer handleType(@NativeType("VkExternalMemoryHandleTypeFlagBits") int value) { VkPhysicalDeviceExternalImageFormatInfo.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceExternalImageFormatInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceExternalImageFormatInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer getHandleType(int[] dst) { gather(VkPhysicalDeviceExternalImageFormatInfo.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer getHandleType(IntBuffer dst) { gather(VkPhysicalDeviceExternalImageFormatInfo.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceExternalImageFormatInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceExternalImageFormatInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer putHandleType(int[] src) { scatter(VkPhysicalDeviceExternalImageFormatInfo.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalImageFormatInfo.Buffer putHandleType(IntBuffer src) { scatter(VkPhysicalDeviceExternalImageFormatInfo.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkPhysicalDeviceExternalMemoryHostPropertiesEXT extends Struct impl
         return wrap(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalMemoryHostPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalMemoryHostPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalMemoryHostPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalMemoryHostPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceExternalMemoryHostPropertiesEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDeviceExternalMemoryHostPropertiesEXT extends Struct impl
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceExternalMemoryHostPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code minImportedHostPointerAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer getMinImportedHostPointerAlignment(long[] dst) { gather(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.MINIMPORTEDHOSTPOINTERALIGNMENT, dst); return this; }
+        /** Copies the {@code minImportedHostPointerAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer getMinImportedHostPointerAlignment(LongBuffer dst) { gather(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.MINIMPORTEDHOSTPOINTERALIGNMENT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalMemoryHostPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceExternalMemoryHostPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
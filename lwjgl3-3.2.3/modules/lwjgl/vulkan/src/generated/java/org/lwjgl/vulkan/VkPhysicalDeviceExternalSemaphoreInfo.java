@@ -234,6 +234,24 @@ public class VkPhysicalDeviceExternalSemaphoreInfo extends Struct implements Nat
         return wrap(VkPhysicalDeviceExternalSemaphoreInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalSemaphoreInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalSemaphoreInfo malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalSemaphoreInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceExternalSemaphoreInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalSemaphoreInfo calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceExternalSemaphoreInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceExternalSemaphoreInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkPhysicalDeviceExternalSemaphoreInfo extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalSemaphoreInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalSemaphoreInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceExternalSemaphoreInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceExternalSemaphoreInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkPhysicalDeviceExternalSemaphoreInfo extends Struct implements Nat
         /** Sets the specified value to the {@code handleType} field. */
         public VkPhysicalDeviceExternalSemaphoreInfo.Buffer handleType(@NativeType("VkExternalSemaphoreHandleTypeFlagBits") int value) { VkPhysicalDeviceExternalSemaphoreInfo.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceExternalSemaphoreInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceExternalSemaphoreInfo.STYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer getHandleType(int[] dst) { gather(VkPhysicalDeviceExternalSemaphoreInfo.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer getHandleType(IntBuffer dst) { gather(VkPhysicalDeviceExternalSemaphoreInfo.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceExternalSemaphoreInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceExternalSemaphoreInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer putHandleType(int[] src) { scatter(VkPhysicalDeviceExternalSemaphoreInfo.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceExternalSemaphoreInfo.Buffer putHandleType(IntBuffer src) { scatter(VkPhysicalDeviceExternalSemaphoreInfo.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -237,6 +237,24 @@ public class VkPhysicalDeviceFeatures2 extends Struct implements NativeResource
         return wrap(VkPhysicalDeviceFeatures2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceFeatures2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFeatures2 malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFeatures2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceFeatures2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFeatures2 calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFeatures2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceFeatures2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class VkPhysicalDeviceFeatures2 extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceFeatures2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFeatures2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceFeatures2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFeatures2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -347,6 +385,16 @@ public class VkPhysicalDeviceFeatures2 extends Struct implements NativeResource
         /** Passes the {@code features} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkPhysicalDeviceFeatures2.Buffer features(java.util.function.Consumer<VkPhysicalDeviceFeatures> consumer) { consumer.accept(features()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFeatures2.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceFeatures2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFeatures2.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceFeatures2.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFeatures2.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceFeatures2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFeatures2.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceFeatures2.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
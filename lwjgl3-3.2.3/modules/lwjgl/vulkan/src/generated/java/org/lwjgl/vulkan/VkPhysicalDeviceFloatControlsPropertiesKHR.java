@@ -354,6 +354,24 @@ public class VkPhysicalDeviceFloatControlsPropertiesKHR extends Struct implement
         return wrap(VkPhysicalDeviceFloatControlsPropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceFloatControlsPropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFloatControlsPropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFloatControlsPropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceFloatControlsPropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFloatControlsPropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFloatControlsPropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -392,6 +410,26 @@ public class VkPhysicalDeviceFloatControlsPropertiesKHR extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -539,6 +577,24 @@ public class VkPhysicalDeviceFloatControlsPropertiesKHR extends Struct implement
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceFloatControlsPropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceFloatControlsPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceFloatControlsPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code denormBehaviorIndependence} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer getDenormBehaviorIndependence(int[] dst) { gather(VkPhysicalDeviceFloatControlsPropertiesKHR.DENORMBEHAVIORINDEPENDENCE, dst); return this; }
+        /** Copies the {@code denormBehaviorIndependence} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer getDenormBehaviorIndependence(IntBuffer dst) { gather(VkPhysicalDeviceFloatControlsPropertiesKHR.DENORMBEHAVIORINDEPENDENCE, dst); return this; }
+        /** Copies the {@code roundingModeIndependence} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer getRoundingModeIndependence(int[] dst) { gather(VkPhysicalDeviceFloatControlsPropertiesKHR.ROUNDINGMODEINDEPENDENCE, dst); return this; }
+        /** Copies the {@code roundingModeIndependence} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer getRoundingModeIndependence(IntBuffer dst) { gather(VkPhysicalDeviceFloatControlsPropertiesKHR.ROUNDINGMODEINDEPENDENCE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceFloatControlsPropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFloatControlsPropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceFloatControlsPropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -242,6 +242,24 @@ public class VkPhysicalDeviceFragmentDensityMapFeaturesEXT extends Struct implem
         return wrap(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentDensityMapFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentDensityMapFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -280,6 +298,26 @@ public class VkPhysicalDeviceFragmentDensityMapFeaturesEXT extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -357,6 +395,16 @@ public class VkPhysicalDeviceFragmentDensityMapFeaturesEXT extends Struct implem
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceFragmentDensityMapFeaturesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentDensityMapFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceFragmentDensityMapFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
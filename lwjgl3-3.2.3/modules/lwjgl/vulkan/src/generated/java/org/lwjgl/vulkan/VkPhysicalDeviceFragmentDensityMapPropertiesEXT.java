@@ -242,6 +242,24 @@ public class VkPhysicalDeviceFragmentDensityMapPropertiesEXT extends Struct impl
         return wrap(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentDensityMapPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentDensityMapPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -280,6 +298,26 @@ public class VkPhysicalDeviceFragmentDensityMapPropertiesEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -355,6 +393,16 @@ public class VkPhysicalDeviceFragmentDensityMapPropertiesEXT extends Struct impl
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceFragmentDensityMapPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentDensityMapPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceFragmentDensityMapPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
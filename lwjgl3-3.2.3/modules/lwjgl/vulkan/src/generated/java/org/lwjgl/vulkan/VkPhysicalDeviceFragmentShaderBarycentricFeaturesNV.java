@@ -232,6 +232,24 @@ public class VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV extends Struct
         return wrap(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -341,6 +379,16 @@ public class VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV extends Struct
         /** Sets the specified value to the {@code fragmentShaderBarycentric} field. */
         public VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer fragmentShaderBarycentric(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.nfragmentShaderBarycentric(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceFragmentShaderBarycentricFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
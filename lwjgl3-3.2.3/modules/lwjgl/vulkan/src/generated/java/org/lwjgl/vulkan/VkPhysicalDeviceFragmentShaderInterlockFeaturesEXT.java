@@ -254,6 +254,24 @@ public class VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT extends Struct i
         return wrap(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -292,6 +310,26 @@ public class VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT extends Struct i
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -381,6 +419,16 @@ public class VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT extends Struct i
         /** Sets the specified value to the {@code fragmentShaderShadingRateInterlock} field. */
         public VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer fragmentShaderShadingRateInterlock(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.nfragmentShaderShadingRateInterlock(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceFragmentShaderInterlockFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
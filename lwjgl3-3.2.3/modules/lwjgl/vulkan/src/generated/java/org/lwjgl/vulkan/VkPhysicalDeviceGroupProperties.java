@@ -252,6 +252,24 @@ public class VkPhysicalDeviceGroupProperties extends Struct implements NativeRes
         return wrap(VkPhysicalDeviceGroupProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceGroupProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceGroupProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceGroupProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceGroupProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceGroupProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceGroupProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceGroupProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPhysicalDeviceGroupProperties extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceGroupProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceGroupProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceGroupProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceGroupProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -374,6 +412,20 @@ public class VkPhysicalDeviceGroupProperties extends Struct implements NativeRes
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceGroupProperties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceGroupProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceGroupProperties.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceGroupProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceGroupProperties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceGroupProperties.STYPE, dst); return this; }
+        /** Copies the {@code physicalDeviceCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceGroupProperties.Buffer getPhysicalDeviceCount(int[] dst) { gather(VkPhysicalDeviceGroupProperties.PHYSICALDEVICECOUNT, dst); return this; }
+        /** Copies the {@code physicalDeviceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceGroupProperties.Buffer getPhysicalDeviceCount(IntBuffer dst) { gather(VkPhysicalDeviceGroupProperties.PHYSICALDEVICECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceGroupProperties.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceGroupProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceGroupProperties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceGroupProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class VkPhysicalDeviceHostQueryResetFeaturesEXT extends Struct implements
         return wrap(VkPhysicalDeviceHostQueryResetFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceHostQueryResetFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceHostQueryResetFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceHostQueryResetFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceHostQueryResetFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceHostQueryResetFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceHostQueryResetFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceHostQueryResetFeaturesEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceHostQueryResetFeaturesEXT extends Struct implements
         /** Sets the specified value to the {@code hostQueryReset} field. */
         public VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer hostQueryReset(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceHostQueryResetFeaturesEXT.nhostQueryReset(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceHostQueryResetFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceHostQueryResetFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceHostQueryResetFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceHostQueryResetFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceHostQueryResetFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -295,6 +295,24 @@ public class VkPhysicalDeviceIDProperties extends Struct implements NativeResour
         return wrap(VkPhysicalDeviceIDProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceIDProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceIDProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceIDProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceIDProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceIDProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceIDProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceIDProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -333,6 +351,26 @@ public class VkPhysicalDeviceIDProperties extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceIDProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceIDProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceIDProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceIDProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -441,6 +479,20 @@ public class VkPhysicalDeviceIDProperties extends Struct implements NativeResour
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceIDProperties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceIDProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceIDProperties.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceIDProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceIDProperties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceIDProperties.STYPE, dst); return this; }
+        /** Copies the {@code deviceNodeMask} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceIDProperties.Buffer getDeviceNodeMask(int[] dst) { gather(VkPhysicalDeviceIDProperties.DEVICENODEMASK, dst); return this; }
+        /** Copies the {@code deviceNodeMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceIDProperties.Buffer getDeviceNodeMask(IntBuffer dst) { gather(VkPhysicalDeviceIDProperties.DEVICENODEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceIDProperties.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceIDProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceIDProperties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceIDProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
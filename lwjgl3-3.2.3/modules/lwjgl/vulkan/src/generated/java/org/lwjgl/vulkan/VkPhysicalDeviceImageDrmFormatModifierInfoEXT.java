@@ -275,6 +275,24 @@ public class VkPhysicalDeviceImageDrmFormatModifierInfoEXT extends Struct implem
         return wrap(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceImageDrmFormatModifierInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageDrmFormatModifierInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceImageDrmFormatModifierInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageDrmFormatModifierInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -313,6 +331,26 @@ public class VkPhysicalDeviceImageDrmFormatModifierInfoEXT extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -433,6 +471,36 @@ public class VkPhysicalDeviceImageDrmFormatModifierInfoEXT extends Struct implem
         /** Sets the address of the specified {@link IntBuffer} to the {@code pQueueFamilyIndices} field. */
         public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer pQueueFamilyIndices(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkPhysicalDeviceImageDrmFormatModifierInfoEXT.npQueueFamilyIndices(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getDrmFormatModifier(long[] dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code drmFormatModifier} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getDrmFormatModifier(LongBuffer dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.DRMFORMATMODIFIER, dst); return this; }
+        /** Copies the {@code sharingMode} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getSharingMode(int[] dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.SHARINGMODE, dst); return this; }
+        /** Copies the {@code sharingMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getSharingMode(IntBuffer dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.SHARINGMODE, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getQueueFamilyIndexCount(int[] dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer getQueueFamilyIndexCount(IntBuffer dst) { gather(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code drmFormatModifier} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer putDrmFormatModifier(long[] src) { scatter(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.DRMFORMATMODIFIER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code drmFormatModifier} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer putDrmFormatModifier(LongBuffer src) { scatter(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.DRMFORMATMODIFIER, src); return this; }
+        /** Copies the values in the specified array to the {@code sharingMode} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer putSharingMode(int[] src) { scatter(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.SHARINGMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sharingMode} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageDrmFormatModifierInfoEXT.Buffer putSharingMode(IntBuffer src) { scatter(VkPhysicalDeviceImageDrmFormatModifierInfoEXT.SHARINGMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -299,6 +299,24 @@ public class VkPhysicalDeviceImageFormatInfo2 extends Struct implements NativeRe
         return wrap(VkPhysicalDeviceImageFormatInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceImageFormatInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageFormatInfo2 malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImageFormatInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceImageFormatInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageFormatInfo2 calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImageFormatInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceImageFormatInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -337,6 +355,26 @@ public class VkPhysicalDeviceImageFormatInfo2 extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceImageFormatInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageFormatInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceImageFormatInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageFormatInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -444,6 +482,56 @@ public class VkPhysicalDeviceImageFormatInfo2 extends Struct implements NativeRe
         /** Sets the specified value to the {@code flags} field. */
         public VkPhysicalDeviceImageFormatInfo2.Buffer flags(@NativeType("VkImageCreateFlags") int value) { VkPhysicalDeviceImageFormatInfo2.nflags(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceImageFormatInfo2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceImageFormatInfo2.STYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getFormat(int[] dst) { gather(VkPhysicalDeviceImageFormatInfo2.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getFormat(IntBuffer dst) { gather(VkPhysicalDeviceImageFormatInfo2.FORMAT, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getType(int[] dst) { gather(VkPhysicalDeviceImageFormatInfo2.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getType(IntBuffer dst) { gather(VkPhysicalDeviceImageFormatInfo2.TYPE, dst); return this; }
+        /** Copies the {@code tiling} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getTiling(int[] dst) { gather(VkPhysicalDeviceImageFormatInfo2.TILING, dst); return this; }
+        /** Copies the {@code tiling} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getTiling(IntBuffer dst) { gather(VkPhysicalDeviceImageFormatInfo2.TILING, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getUsage(int[] dst) { gather(VkPhysicalDeviceImageFormatInfo2.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getUsage(IntBuffer dst) { gather(VkPhysicalDeviceImageFormatInfo2.USAGE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getFlags(int[] dst) { gather(VkPhysicalDeviceImageFormatInfo2.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer getFlags(IntBuffer dst) { gather(VkPhysicalDeviceImageFormatInfo2.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceImageFormatInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceImageFormatInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putFormat(int[] src) { scatter(VkPhysicalDeviceImageFormatInfo2.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putFormat(IntBuffer src) { scatter(VkPhysicalDeviceImageFormatInfo2.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putType(int[] src) { scatter(VkPhysicalDeviceImageFormatInfo2.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putType(IntBuffer src) { scatter(VkPhysicalDeviceImageFormatInfo2.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code tiling} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putTiling(int[] src) { scatter(VkPhysicalDeviceImageFormatInfo2.TILING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tiling} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putTiling(IntBuffer src) { scatter(VkPhysicalDeviceImageFormatInfo2.TILING, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putUsage(int[] src) { scatter(VkPhysicalDeviceImageFormatInfo2.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putUsage(IntBuffer src) { scatter(VkPhysicalDeviceImageFormatInfo2.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putFlags(int[] src) { scatter(VkPhysicalDeviceImageFormatInfo2.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageFormatInfo2.Buffer putFlags(IntBuffer src) { scatter(VkPhysicalDeviceImageFormatInfo2.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -229,6 +229,24 @@ public class VkPhysicalDeviceImageViewImageFormatInfoEXT extends Struct implemen
         return wrap(VkPhysicalDeviceImageViewImageFormatInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceImageViewImageFormatInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageViewImageFormatInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImageViewImageFormatInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceImageViewImageFormatInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageViewImageFormatInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImageViewImageFormatInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkPhysicalDeviceImageViewImageFormatInfoEXT extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkPhysicalDeviceImageViewImageFormatInfoEXT extends Struct implemen
         /** Sets the specified value to the {@code imageViewType} field. */
         public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer imageViewType(@NativeType("VkImageViewType") int value) { VkPhysicalDeviceImageViewImageFormatInfoEXT.nimageViewType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceImageViewImageFormatInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceImageViewImageFormatInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code imageViewType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer getImageViewType(int[] dst) { gather(VkPhysicalDeviceImageViewImageFormatInfoEXT.IMAGEVIEWTYPE, dst); return this; }
+        /** Copies the {@code imageViewType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer getImageViewType(IntBuffer dst) { gather(VkPhysicalDeviceImageViewImageFormatInfoEXT.IMAGEVIEWTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceImageViewImageFormatInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceImageViewImageFormatInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code imageViewType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer putImageViewType(int[] src) { scatter(VkPhysicalDeviceImageViewImageFormatInfoEXT.IMAGEVIEWTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageViewType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImageViewImageFormatInfoEXT.Buffer putImageViewType(IntBuffer src) { scatter(VkPhysicalDeviceImageViewImageFormatInfoEXT.IMAGEVIEWTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
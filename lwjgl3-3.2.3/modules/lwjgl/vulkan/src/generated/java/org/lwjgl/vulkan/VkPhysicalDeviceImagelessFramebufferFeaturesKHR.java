@@ -230,6 +230,24 @@ public class VkPhysicalDeviceImagelessFramebufferFeaturesKHR extends Struct impl
         return wrap(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceImagelessFramebufferFeaturesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImagelessFramebufferFeaturesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceImagelessFramebufferFeaturesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImagelessFramebufferFeaturesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceImagelessFramebufferFeaturesKHR extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceImagelessFramebufferFeaturesKHR extends Struct impl
         /** Sets the specified value to the {@code imagelessFramebuffer} field. */
         public VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer imagelessFramebuffer(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceImagelessFramebufferFeaturesKHR.nimagelessFramebuffer(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceImagelessFramebufferFeaturesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceImagelessFramebufferFeaturesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
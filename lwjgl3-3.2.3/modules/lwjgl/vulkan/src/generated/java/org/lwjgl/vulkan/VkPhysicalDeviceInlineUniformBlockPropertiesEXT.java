@@ -259,6 +259,24 @@ public class VkPhysicalDeviceInlineUniformBlockPropertiesEXT extends Struct impl
         return wrap(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceInlineUniformBlockPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceInlineUniformBlockPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceInlineUniformBlockPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceInlineUniformBlockPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkPhysicalDeviceInlineUniformBlockPropertiesEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -384,6 +422,36 @@ public class VkPhysicalDeviceInlineUniformBlockPropertiesEXT extends Struct impl
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceInlineUniformBlockPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxInlineUniformBlockSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxInlineUniformBlockSize(int[] dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXINLINEUNIFORMBLOCKSIZE, dst); return this; }
+        /** Copies the {@code maxInlineUniformBlockSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxInlineUniformBlockSize(IntBuffer dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXINLINEUNIFORMBLOCKSIZE, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorInlineUniformBlocks} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxPerStageDescriptorInlineUniformBlocks(int[] dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXPERSTAGEDESCRIPTORINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorInlineUniformBlocks} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxPerStageDescriptorInlineUniformBlocks(IntBuffer dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXPERSTAGEDESCRIPTORINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindInlineUniformBlocks} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindInlineUniformBlocks(int[] dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUpdateAfterBindInlineUniformBlocks} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxPerStageDescriptorUpdateAfterBindInlineUniformBlocks(IntBuffer dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXPERSTAGEDESCRIPTORUPDATEAFTERBINDINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetInlineUniformBlocks} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxDescriptorSetInlineUniformBlocks(int[] dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXDESCRIPTORSETINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetInlineUniformBlocks} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxDescriptorSetInlineUniformBlocks(IntBuffer dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXDESCRIPTORSETINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindInlineUniformBlocks} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindInlineUniformBlocks(int[] dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDINLINEUNIFORMBLOCKS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUpdateAfterBindInlineUniformBlocks} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer getMaxDescriptorSetUpdateAfterBindInlineUniformBlocks(IntBuffer dst) { gather(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.MAXDESCRIPTORSETUPDATEAFTERBINDINLINEUNIFORMBLOCKS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceInlineUniformBlockPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceInlineUniformBlockPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
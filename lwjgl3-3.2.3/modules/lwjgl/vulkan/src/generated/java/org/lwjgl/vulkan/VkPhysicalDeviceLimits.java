@@ -1567,6 +1567,391 @@ public class VkPhysicalDeviceLimits extends Struct {
         @NativeType("VkDeviceSize")
         public long nonCoherentAtomSize() { return VkPhysicalDeviceLimits.nnonCoherentAtomSize(address()); }
 
+        /** Copies the {@code maxImageDimension1D} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimension1D(int[] dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSION1D, dst); return this; }
+        /** Copies the {@code maxImageDimension1D} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimension1D(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSION1D, dst); return this; }
+        /** Copies the {@code maxImageDimension2D} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimension2D(int[] dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSION2D, dst); return this; }
+        /** Copies the {@code maxImageDimension2D} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimension2D(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSION2D, dst); return this; }
+        /** Copies the {@code maxImageDimension3D} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimension3D(int[] dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSION3D, dst); return this; }
+        /** Copies the {@code maxImageDimension3D} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimension3D(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSION3D, dst); return this; }
+        /** Copies the {@code maxImageDimensionCube} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimensionCube(int[] dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSIONCUBE, dst); return this; }
+        /** Copies the {@code maxImageDimensionCube} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageDimensionCube(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEDIMENSIONCUBE, dst); return this; }
+        /** Copies the {@code maxImageArrayLayers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageArrayLayers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code maxImageArrayLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxImageArrayLayers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXIMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code maxTexelBufferElements} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTexelBufferElements(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTEXELBUFFERELEMENTS, dst); return this; }
+        /** Copies the {@code maxTexelBufferElements} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTexelBufferElements(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTEXELBUFFERELEMENTS, dst); return this; }
+        /** Copies the {@code maxUniformBufferRange} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxUniformBufferRange(int[] dst) { gather(VkPhysicalDeviceLimits.MAXUNIFORMBUFFERRANGE, dst); return this; }
+        /** Copies the {@code maxUniformBufferRange} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxUniformBufferRange(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXUNIFORMBUFFERRANGE, dst); return this; }
+        /** Copies the {@code maxStorageBufferRange} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxStorageBufferRange(int[] dst) { gather(VkPhysicalDeviceLimits.MAXSTORAGEBUFFERRANGE, dst); return this; }
+        /** Copies the {@code maxStorageBufferRange} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxStorageBufferRange(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXSTORAGEBUFFERRANGE, dst); return this; }
+        /** Copies the {@code maxPushConstantsSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPushConstantsSize(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPUSHCONSTANTSSIZE, dst); return this; }
+        /** Copies the {@code maxPushConstantsSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPushConstantsSize(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPUSHCONSTANTSSIZE, dst); return this; }
+        /** Copies the {@code maxMemoryAllocationCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxMemoryAllocationCount(int[] dst) { gather(VkPhysicalDeviceLimits.MAXMEMORYALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code maxMemoryAllocationCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxMemoryAllocationCount(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXMEMORYALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code maxSamplerAllocationCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSamplerAllocationCount(int[] dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLERALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code maxSamplerAllocationCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSamplerAllocationCount(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLERALLOCATIONCOUNT, dst); return this; }
+        /** Copies the {@code bufferImageGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getBufferImageGranularity(long[] dst) { gather(VkPhysicalDeviceLimits.BUFFERIMAGEGRANULARITY, dst); return this; }
+        /** Copies the {@code bufferImageGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getBufferImageGranularity(LongBuffer dst) { gather(VkPhysicalDeviceLimits.BUFFERIMAGEGRANULARITY, dst); return this; }
+        /** Copies the {@code sparseAddressSpaceSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSparseAddressSpaceSize(long[] dst) { gather(VkPhysicalDeviceLimits.SPARSEADDRESSSPACESIZE, dst); return this; }
+        /** Copies the {@code sparseAddressSpaceSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSparseAddressSpaceSize(LongBuffer dst) { gather(VkPhysicalDeviceLimits.SPARSEADDRESSSPACESIZE, dst); return this; }
+        /** Copies the {@code maxBoundDescriptorSets} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxBoundDescriptorSets(int[] dst) { gather(VkPhysicalDeviceLimits.MAXBOUNDDESCRIPTORSETS, dst); return this; }
+        /** Copies the {@code maxBoundDescriptorSets} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxBoundDescriptorSets(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXBOUNDDESCRIPTORSETS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorSamplers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorSamplers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSAMPLERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorSamplers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorSamplers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSAMPLERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUniformBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorUniformBuffers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorUniformBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorUniformBuffers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorStorageBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorStorageBuffers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorStorageBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorStorageBuffers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorSampledImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorSampledImages(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorSampledImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorSampledImages(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorStorageImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorStorageImages(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorStorageImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorStorageImages(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorInputAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorInputAttachments(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxPerStageDescriptorInputAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageDescriptorInputAttachments(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGEDESCRIPTORINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxPerStageResources} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageResources(int[] dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGERESOURCES, dst); return this; }
+        /** Copies the {@code maxPerStageResources} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxPerStageResources(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXPERSTAGERESOURCES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetSamplers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetSamplers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSAMPLERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetSamplers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetSamplers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSAMPLERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUniformBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetUniformBuffers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUniformBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetUniformBuffers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETUNIFORMBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUniformBuffersDynamic} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetUniformBuffersDynamic(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETUNIFORMBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetUniformBuffersDynamic} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetUniformBuffersDynamic(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETUNIFORMBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetStorageBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetStorageBuffers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetStorageBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetStorageBuffers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSTORAGEBUFFERS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetStorageBuffersDynamic} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetStorageBuffersDynamic(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSTORAGEBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetStorageBuffersDynamic} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetStorageBuffersDynamic(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSTORAGEBUFFERSDYNAMIC, dst); return this; }
+        /** Copies the {@code maxDescriptorSetSampledImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetSampledImages(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetSampledImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetSampledImages(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSAMPLEDIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetStorageImages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetStorageImages(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetStorageImages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetStorageImages(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETSTORAGEIMAGES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetInputAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetInputAttachments(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxDescriptorSetInputAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDescriptorSetInputAttachments(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDESCRIPTORSETINPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxVertexInputAttributes} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputAttributes(int[] dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTATTRIBUTES, dst); return this; }
+        /** Copies the {@code maxVertexInputAttributes} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputAttributes(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTATTRIBUTES, dst); return this; }
+        /** Copies the {@code maxVertexInputBindings} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputBindings(int[] dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTBINDINGS, dst); return this; }
+        /** Copies the {@code maxVertexInputBindings} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputBindings(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTBINDINGS, dst); return this; }
+        /** Copies the {@code maxVertexInputAttributeOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputAttributeOffset(int[] dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTATTRIBUTEOFFSET, dst); return this; }
+        /** Copies the {@code maxVertexInputAttributeOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputAttributeOffset(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTATTRIBUTEOFFSET, dst); return this; }
+        /** Copies the {@code maxVertexInputBindingStride} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputBindingStride(int[] dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTBINDINGSTRIDE, dst); return this; }
+        /** Copies the {@code maxVertexInputBindingStride} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexInputBindingStride(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXINPUTBINDINGSTRIDE, dst); return this; }
+        /** Copies the {@code maxVertexOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxVertexOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxVertexOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXVERTEXOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationGenerationLevel} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationGenerationLevel(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONGENERATIONLEVEL, dst); return this; }
+        /** Copies the {@code maxTessellationGenerationLevel} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationGenerationLevel(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONGENERATIONLEVEL, dst); return this; }
+        /** Copies the {@code maxTessellationPatchSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationPatchSize(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONPATCHSIZE, dst); return this; }
+        /** Copies the {@code maxTessellationPatchSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationPatchSize(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONPATCHSIZE, dst); return this; }
+        /** Copies the {@code maxTessellationControlPerVertexInputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlPerVertexInputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLPERVERTEXINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlPerVertexInputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlPerVertexInputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLPERVERTEXINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlPerVertexOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlPerVertexOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLPERVERTEXOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlPerVertexOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlPerVertexOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLPERVERTEXOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlPerPatchOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlPerPatchOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLPERPATCHOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlPerPatchOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlPerPatchOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLPERPATCHOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlTotalOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlTotalOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLTOTALOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationControlTotalOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationControlTotalOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONCONTROLTOTALOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationEvaluationInputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationEvaluationInputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONEVALUATIONINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationEvaluationInputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationEvaluationInputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONEVALUATIONINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationEvaluationOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationEvaluationOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONEVALUATIONOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxTessellationEvaluationOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTessellationEvaluationOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTESSELLATIONEVALUATIONOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxGeometryShaderInvocations} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryShaderInvocations(int[] dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYSHADERINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxGeometryShaderInvocations} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryShaderInvocations(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYSHADERINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxGeometryInputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryInputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxGeometryInputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryInputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxGeometryOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxGeometryOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxGeometryOutputVertices} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryOutputVertices(int[] dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYOUTPUTVERTICES, dst); return this; }
+        /** Copies the {@code maxGeometryOutputVertices} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryOutputVertices(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYOUTPUTVERTICES, dst); return this; }
+        /** Copies the {@code maxGeometryTotalOutputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryTotalOutputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYTOTALOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxGeometryTotalOutputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxGeometryTotalOutputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXGEOMETRYTOTALOUTPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxFragmentInputComponents} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentInputComponents(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxFragmentInputComponents} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentInputComponents(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTINPUTCOMPONENTS, dst); return this; }
+        /** Copies the {@code maxFragmentOutputAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentOutputAttachments(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTOUTPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxFragmentOutputAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentOutputAttachments(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTOUTPUTATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxFragmentDualSrcAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentDualSrcAttachments(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTDUALSRCATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxFragmentDualSrcAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentDualSrcAttachments(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTDUALSRCATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxFragmentCombinedOutputResources} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentCombinedOutputResources(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTCOMBINEDOUTPUTRESOURCES, dst); return this; }
+        /** Copies the {@code maxFragmentCombinedOutputResources} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFragmentCombinedOutputResources(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAGMENTCOMBINEDOUTPUTRESOURCES, dst); return this; }
+        /** Copies the {@code maxComputeSharedMemorySize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxComputeSharedMemorySize(int[] dst) { gather(VkPhysicalDeviceLimits.MAXCOMPUTESHAREDMEMORYSIZE, dst); return this; }
+        /** Copies the {@code maxComputeSharedMemorySize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxComputeSharedMemorySize(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXCOMPUTESHAREDMEMORYSIZE, dst); return this; }
+        /** Copies the {@code maxComputeWorkGroupInvocations} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxComputeWorkGroupInvocations(int[] dst) { gather(VkPhysicalDeviceLimits.MAXCOMPUTEWORKGROUPINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxComputeWorkGroupInvocations} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxComputeWorkGroupInvocations(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXCOMPUTEWORKGROUPINVOCATIONS, dst); return this; }
+        /** Copies the {@code subPixelPrecisionBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSubPixelPrecisionBits(int[] dst) { gather(VkPhysicalDeviceLimits.SUBPIXELPRECISIONBITS, dst); return this; }
+        /** Copies the {@code subPixelPrecisionBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSubPixelPrecisionBits(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SUBPIXELPRECISIONBITS, dst); return this; }
+        /** Copies the {@code subTexelPrecisionBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSubTexelPrecisionBits(int[] dst) { gather(VkPhysicalDeviceLimits.SUBTEXELPRECISIONBITS, dst); return this; }
+        /** Copies the {@code subTexelPrecisionBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSubTexelPrecisionBits(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SUBTEXELPRECISIONBITS, dst); return this; }
+        /** Copies the {@code mipmapPrecisionBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMipmapPrecisionBits(int[] dst) { gather(VkPhysicalDeviceLimits.MIPMAPPRECISIONBITS, dst); return this; }
+        /** Copies the {@code mipmapPrecisionBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMipmapPrecisionBits(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MIPMAPPRECISIONBITS, dst); return this; }
+        /** Copies the {@code maxDrawIndexedIndexValue} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDrawIndexedIndexValue(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDRAWINDEXEDINDEXVALUE, dst); return this; }
+        /** Copies the {@code maxDrawIndexedIndexValue} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDrawIndexedIndexValue(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDRAWINDEXEDINDEXVALUE, dst); return this; }
+        /** Copies the {@code maxDrawIndirectCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDrawIndirectCount(int[] dst) { gather(VkPhysicalDeviceLimits.MAXDRAWINDIRECTCOUNT, dst); return this; }
+        /** Copies the {@code maxDrawIndirectCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxDrawIndirectCount(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXDRAWINDIRECTCOUNT, dst); return this; }
+        /** Copies the {@code maxSamplerLodBias} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSamplerLodBias(float[] dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLERLODBIAS, dst); return this; }
+        /** Copies the {@code maxSamplerLodBias} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSamplerLodBias(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLERLODBIAS, dst); return this; }
+        /** Copies the {@code maxSamplerAnisotropy} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSamplerAnisotropy(float[] dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLERANISOTROPY, dst); return this; }
+        /** Copies the {@code maxSamplerAnisotropy} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSamplerAnisotropy(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLERANISOTROPY, dst); return this; }
+        /** Copies the {@code maxViewports} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxViewports(int[] dst) { gather(VkPhysicalDeviceLimits.MAXVIEWPORTS, dst); return this; }
+        /** Copies the {@code maxViewports} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxViewports(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXVIEWPORTS, dst); return this; }
+        /** Copies the {@code viewportSubPixelBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getViewportSubPixelBits(int[] dst) { gather(VkPhysicalDeviceLimits.VIEWPORTSUBPIXELBITS, dst); return this; }
+        /** Copies the {@code viewportSubPixelBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getViewportSubPixelBits(IntBuffer dst) { gather(VkPhysicalDeviceLimits.VIEWPORTSUBPIXELBITS, dst); return this; }
+        /** Copies the {@code minTexelBufferOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMinTexelBufferOffsetAlignment(long[] dst) { gather(VkPhysicalDeviceLimits.MINTEXELBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minTexelBufferOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMinTexelBufferOffsetAlignment(LongBuffer dst) { gather(VkPhysicalDeviceLimits.MINTEXELBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minUniformBufferOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMinUniformBufferOffsetAlignment(long[] dst) { gather(VkPhysicalDeviceLimits.MINUNIFORMBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minUniformBufferOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMinUniformBufferOffsetAlignment(LongBuffer dst) { gather(VkPhysicalDeviceLimits.MINUNIFORMBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minStorageBufferOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMinStorageBufferOffsetAlignment(long[] dst) { gather(VkPhysicalDeviceLimits.MINSTORAGEBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minStorageBufferOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMinStorageBufferOffsetAlignment(LongBuffer dst) { gather(VkPhysicalDeviceLimits.MINSTORAGEBUFFEROFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code minTexelOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMinTexelOffset(int[] dst) { gather(VkPhysicalDeviceLimits.MINTEXELOFFSET, dst); return this; }
+        /** Copies the {@code minTexelOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMinTexelOffset(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MINTEXELOFFSET, dst); return this; }
+        /** Copies the {@code maxTexelOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTexelOffset(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTEXELOFFSET, dst); return this; }
+        /** Copies the {@code maxTexelOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTexelOffset(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTEXELOFFSET, dst); return this; }
+        /** Copies the {@code minTexelGatherOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMinTexelGatherOffset(int[] dst) { gather(VkPhysicalDeviceLimits.MINTEXELGATHEROFFSET, dst); return this; }
+        /** Copies the {@code minTexelGatherOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMinTexelGatherOffset(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MINTEXELGATHEROFFSET, dst); return this; }
+        /** Copies the {@code maxTexelGatherOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTexelGatherOffset(int[] dst) { gather(VkPhysicalDeviceLimits.MAXTEXELGATHEROFFSET, dst); return this; }
+        /** Copies the {@code maxTexelGatherOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxTexelGatherOffset(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXTEXELGATHEROFFSET, dst); return this; }
+        /** Copies the {@code minInterpolationOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMinInterpolationOffset(float[] dst) { gather(VkPhysicalDeviceLimits.MININTERPOLATIONOFFSET, dst); return this; }
+        /** Copies the {@code minInterpolationOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMinInterpolationOffset(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.MININTERPOLATIONOFFSET, dst); return this; }
+        /** Copies the {@code maxInterpolationOffset} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxInterpolationOffset(float[] dst) { gather(VkPhysicalDeviceLimits.MAXINTERPOLATIONOFFSET, dst); return this; }
+        /** Copies the {@code maxInterpolationOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxInterpolationOffset(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.MAXINTERPOLATIONOFFSET, dst); return this; }
+        /** Copies the {@code subPixelInterpolationOffsetBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSubPixelInterpolationOffsetBits(int[] dst) { gather(VkPhysicalDeviceLimits.SUBPIXELINTERPOLATIONOFFSETBITS, dst); return this; }
+        /** Copies the {@code subPixelInterpolationOffsetBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSubPixelInterpolationOffsetBits(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SUBPIXELINTERPOLATIONOFFSETBITS, dst); return this; }
+        /** Copies the {@code maxFramebufferWidth} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFramebufferWidth(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAMEBUFFERWIDTH, dst); return this; }
+        /** Copies the {@code maxFramebufferWidth} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFramebufferWidth(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAMEBUFFERWIDTH, dst); return this; }
+        /** Copies the {@code maxFramebufferHeight} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFramebufferHeight(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAMEBUFFERHEIGHT, dst); return this; }
+        /** Copies the {@code maxFramebufferHeight} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFramebufferHeight(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAMEBUFFERHEIGHT, dst); return this; }
+        /** Copies the {@code maxFramebufferLayers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFramebufferLayers(int[] dst) { gather(VkPhysicalDeviceLimits.MAXFRAMEBUFFERLAYERS, dst); return this; }
+        /** Copies the {@code maxFramebufferLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxFramebufferLayers(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXFRAMEBUFFERLAYERS, dst); return this; }
+        /** Copies the {@code framebufferColorSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferColorSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERCOLORSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferColorSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferColorSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERCOLORSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferDepthSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferDepthSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERDEPTHSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferDepthSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferDepthSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERDEPTHSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferStencilSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferStencilSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERSTENCILSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferStencilSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferStencilSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERSTENCILSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferNoAttachmentsSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferNoAttachmentsSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERNOATTACHMENTSSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code framebufferNoAttachmentsSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getFramebufferNoAttachmentsSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.FRAMEBUFFERNOATTACHMENTSSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code maxColorAttachments} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxColorAttachments(int[] dst) { gather(VkPhysicalDeviceLimits.MAXCOLORATTACHMENTS, dst); return this; }
+        /** Copies the {@code maxColorAttachments} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxColorAttachments(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXCOLORATTACHMENTS, dst); return this; }
+        /** Copies the {@code sampledImageColorSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageColorSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGECOLORSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageColorSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageColorSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGECOLORSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageIntegerSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageIntegerSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGEINTEGERSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageIntegerSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageIntegerSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGEINTEGERSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageDepthSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageDepthSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGEDEPTHSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageDepthSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageDepthSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGEDEPTHSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageStencilSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageStencilSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGESTENCILSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampledImageStencilSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getSampledImageStencilSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.SAMPLEDIMAGESTENCILSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code storageImageSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getStorageImageSampleCounts(int[] dst) { gather(VkPhysicalDeviceLimits.STORAGEIMAGESAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code storageImageSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getStorageImageSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceLimits.STORAGEIMAGESAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code maxSampleMaskWords} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSampleMaskWords(int[] dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLEMASKWORDS, dst); return this; }
+        /** Copies the {@code maxSampleMaskWords} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxSampleMaskWords(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXSAMPLEMASKWORDS, dst); return this; }
+        /** Copies the {@code timestampPeriod} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getTimestampPeriod(float[] dst) { gather(VkPhysicalDeviceLimits.TIMESTAMPPERIOD, dst); return this; }
+        /** Copies the {@code timestampPeriod} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getTimestampPeriod(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.TIMESTAMPPERIOD, dst); return this; }
+        /** Copies the {@code maxClipDistances} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxClipDistances(int[] dst) { gather(VkPhysicalDeviceLimits.MAXCLIPDISTANCES, dst); return this; }
+        /** Copies the {@code maxClipDistances} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxClipDistances(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXCLIPDISTANCES, dst); return this; }
+        /** Copies the {@code maxCullDistances} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxCullDistances(int[] dst) { gather(VkPhysicalDeviceLimits.MAXCULLDISTANCES, dst); return this; }
+        /** Copies the {@code maxCullDistances} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxCullDistances(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXCULLDISTANCES, dst); return this; }
+        /** Copies the {@code maxCombinedClipAndCullDistances} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getMaxCombinedClipAndCullDistances(int[] dst) { gather(VkPhysicalDeviceLimits.MAXCOMBINEDCLIPANDCULLDISTANCES, dst); return this; }
+        /** Copies the {@code maxCombinedClipAndCullDistances} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getMaxCombinedClipAndCullDistances(IntBuffer dst) { gather(VkPhysicalDeviceLimits.MAXCOMBINEDCLIPANDCULLDISTANCES, dst); return this; }
+        /** Copies the {@code discreteQueuePriorities} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getDiscreteQueuePriorities(int[] dst) { gather(VkPhysicalDeviceLimits.DISCRETEQUEUEPRIORITIES, dst); return this; }
+        /** Copies the {@code discreteQueuePriorities} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getDiscreteQueuePriorities(IntBuffer dst) { gather(VkPhysicalDeviceLimits.DISCRETEQUEUEPRIORITIES, dst); return this; }
+        /** Copies the {@code pointSizeGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getPointSizeGranularity(float[] dst) { gather(VkPhysicalDeviceLimits.POINTSIZEGRANULARITY, dst); return this; }
+        /** Copies the {@code pointSizeGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getPointSizeGranularity(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.POINTSIZEGRANULARITY, dst); return this; }
+        /** Copies the {@code lineWidthGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getLineWidthGranularity(float[] dst) { gather(VkPhysicalDeviceLimits.LINEWIDTHGRANULARITY, dst); return this; }
+        /** Copies the {@code lineWidthGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getLineWidthGranularity(FloatBuffer dst) { gather(VkPhysicalDeviceLimits.LINEWIDTHGRANULARITY, dst); return this; }
+        /** Copies the {@code optimalBufferCopyOffsetAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getOptimalBufferCopyOffsetAlignment(long[] dst) { gather(VkPhysicalDeviceLimits.OPTIMALBUFFERCOPYOFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code optimalBufferCopyOffsetAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getOptimalBufferCopyOffsetAlignment(LongBuffer dst) { gather(VkPhysicalDeviceLimits.OPTIMALBUFFERCOPYOFFSETALIGNMENT, dst); return this; }
+        /** Copies the {@code optimalBufferCopyRowPitchAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getOptimalBufferCopyRowPitchAlignment(long[] dst) { gather(VkPhysicalDeviceLimits.OPTIMALBUFFERCOPYROWPITCHALIGNMENT, dst); return this; }
+        /** Copies the {@code optimalBufferCopyRowPitchAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getOptimalBufferCopyRowPitchAlignment(LongBuffer dst) { gather(VkPhysicalDeviceLimits.OPTIMALBUFFERCOPYROWPITCHALIGNMENT, dst); return this; }
+        /** Copies the {@code nonCoherentAtomSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLimits.Buffer getNonCoherentAtomSize(long[] dst) { gather(VkPhysicalDeviceLimits.NONCOHERENTATOMSIZE, dst); return this; }
+        /** Copies the {@code nonCoherentAtomSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLimits.Buffer getNonCoherentAtomSize(LongBuffer dst) { gather(VkPhysicalDeviceLimits.NONCOHERENTATOMSIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
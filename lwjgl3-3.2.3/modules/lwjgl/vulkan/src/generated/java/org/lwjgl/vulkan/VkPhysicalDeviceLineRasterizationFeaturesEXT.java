@@ -290,6 +290,24 @@ public class VkPhysicalDeviceLineRasterizationFeaturesEXT extends Struct impleme
         return wrap(VkPhysicalDeviceLineRasterizationFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceLineRasterizationFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceLineRasterizationFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceLineRasterizationFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceLineRasterizationFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -328,6 +346,26 @@ public class VkPhysicalDeviceLineRasterizationFeaturesEXT extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -444,6 +482,16 @@ public class VkPhysicalDeviceLineRasterizationFeaturesEXT extends Struct impleme
         /** Sets the specified value to the {@code stippledSmoothLines} field. */
         public VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer stippledSmoothLines(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceLineRasterizationFeaturesEXT.nstippledSmoothLines(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceLineRasterizationFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceLineRasterizationFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceLineRasterizationFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceLineRasterizationFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceLineRasterizationFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkPhysicalDeviceLineRasterizationPropertiesEXT extends Struct imple
         return wrap(VkPhysicalDeviceLineRasterizationPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceLineRasterizationPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceLineRasterizationPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceLineRasterizationPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceLineRasterizationPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceLineRasterizationPropertiesEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDeviceLineRasterizationPropertiesEXT extends Struct imple
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceLineRasterizationPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceLineRasterizationPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceLineRasterizationPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code lineSubPixelPrecisionBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer getLineSubPixelPrecisionBits(int[] dst) { gather(VkPhysicalDeviceLineRasterizationPropertiesEXT.LINESUBPIXELPRECISIONBITS, dst); return this; }
+        /** Copies the {@code lineSubPixelPrecisionBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer getLineSubPixelPrecisionBits(IntBuffer dst) { gather(VkPhysicalDeviceLineRasterizationPropertiesEXT.LINESUBPIXELPRECISIONBITS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceLineRasterizationPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceLineRasterizationPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceLineRasterizationPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
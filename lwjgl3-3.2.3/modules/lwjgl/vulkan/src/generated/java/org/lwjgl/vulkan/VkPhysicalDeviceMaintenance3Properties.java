@@ -236,6 +236,24 @@ public class VkPhysicalDeviceMaintenance3Properties extends Struct implements Na
         return wrap(VkPhysicalDeviceMaintenance3Properties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceMaintenance3Properties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMaintenance3Properties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMaintenance3Properties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceMaintenance3Properties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMaintenance3Properties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMaintenance3Properties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceMaintenance3Properties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class VkPhysicalDeviceMaintenance3Properties extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceMaintenance3Properties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMaintenance3Properties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceMaintenance3Properties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMaintenance3Properties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -346,6 +384,24 @@ public class VkPhysicalDeviceMaintenance3Properties extends Struct implements Na
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceMaintenance3Properties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceMaintenance3Properties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceMaintenance3Properties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceMaintenance3Properties.STYPE, dst); return this; }
+        /** Copies the {@code maxPerSetDescriptors} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer getMaxPerSetDescriptors(int[] dst) { gather(VkPhysicalDeviceMaintenance3Properties.MAXPERSETDESCRIPTORS, dst); return this; }
+        /** Copies the {@code maxPerSetDescriptors} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer getMaxPerSetDescriptors(IntBuffer dst) { gather(VkPhysicalDeviceMaintenance3Properties.MAXPERSETDESCRIPTORS, dst); return this; }
+        /** Copies the {@code maxMemoryAllocationSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer getMaxMemoryAllocationSize(long[] dst) { gather(VkPhysicalDeviceMaintenance3Properties.MAXMEMORYALLOCATIONSIZE, dst); return this; }
+        /** Copies the {@code maxMemoryAllocationSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer getMaxMemoryAllocationSize(LongBuffer dst) { gather(VkPhysicalDeviceMaintenance3Properties.MAXMEMORYALLOCATIONSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceMaintenance3Properties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMaintenance3Properties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceMaintenance3Properties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
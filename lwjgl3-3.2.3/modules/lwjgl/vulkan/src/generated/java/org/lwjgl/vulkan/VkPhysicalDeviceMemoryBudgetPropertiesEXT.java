@@ -245,6 +245,24 @@ public class VkPhysicalDeviceMemoryBudgetPropertiesEXT extends Struct implements
         return wrap(VkPhysicalDeviceMemoryBudgetPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceMemoryBudgetPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryBudgetPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMemoryBudgetPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceMemoryBudgetPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryBudgetPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMemoryBudgetPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class VkPhysicalDeviceMemoryBudgetPropertiesEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -369,6 +407,16 @@ public class VkPhysicalDeviceMemoryBudgetPropertiesEXT extends Struct implements
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceMemoryBudgetPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceMemoryBudgetPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceMemoryBudgetPropertiesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceMemoryBudgetPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMemoryBudgetPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceMemoryBudgetPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
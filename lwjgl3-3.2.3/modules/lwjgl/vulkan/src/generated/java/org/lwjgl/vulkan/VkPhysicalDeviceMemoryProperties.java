@@ -299,6 +299,24 @@ public class VkPhysicalDeviceMemoryProperties extends Struct implements NativeRe
         return wrap(VkPhysicalDeviceMemoryProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceMemoryProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMemoryProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceMemoryProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMemoryProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceMemoryProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -337,6 +355,26 @@ public class VkPhysicalDeviceMemoryProperties extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceMemoryProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceMemoryProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMemoryProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #memoryTypeCount}. */
@@ -411,6 +449,15 @@ public class VkPhysicalDeviceMemoryProperties extends Struct implements NativeRe
         /** Returns a {@link VkMemoryHeap} view of the struct at the specified index of the {@code memoryHeaps} field. */
         public VkMemoryHeap memoryHeaps(int index) { return VkPhysicalDeviceMemoryProperties.nmemoryHeaps(address(), index); }
 
+        /** Copies the {@code memoryTypeCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMemoryProperties.Buffer getMemoryTypeCount(int[] dst) { gather(VkPhysicalDeviceMemoryProperties.MEMORYTYPECOUNT, dst); return this; }
+        /** Copies the {@code memoryTypeCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMemoryProperties.Buffer getMemoryTypeCount(IntBuffer dst) { gather(VkPhysicalDeviceMemoryProperties.MEMORYTYPECOUNT, dst); return this; }
+        /** Copies the {@code memoryHeapCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMemoryProperties.Buffer getMemoryHeapCount(int[] dst) { gather(VkPhysicalDeviceMemoryProperties.MEMORYHEAPCOUNT, dst); return this; }
+        /** Copies the {@code memoryHeapCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMemoryProperties.Buffer getMemoryHeapCount(IntBuffer dst) { gather(VkPhysicalDeviceMemoryProperties.MEMORYHEAPCOUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -331,6 +331,24 @@ public class VkPhysicalDeviceMeshShaderPropertiesNV extends Struct implements Na
         return wrap(VkPhysicalDeviceMeshShaderPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceMeshShaderPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMeshShaderPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMeshShaderPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceMeshShaderPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMeshShaderPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMeshShaderPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceMeshShaderPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -369,6 +387,26 @@ public class VkPhysicalDeviceMeshShaderPropertiesNV extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceMeshShaderPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMeshShaderPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceMeshShaderPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMeshShaderPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -510,6 +548,60 @@ public class VkPhysicalDeviceMeshShaderPropertiesNV extends Struct implements Na
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceMeshShaderPropertiesNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code maxDrawMeshTasksCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxDrawMeshTasksCount(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXDRAWMESHTASKSCOUNT, dst); return this; }
+        /** Copies the {@code maxDrawMeshTasksCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxDrawMeshTasksCount(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXDRAWMESHTASKSCOUNT, dst); return this; }
+        /** Copies the {@code maxTaskWorkGroupInvocations} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxTaskWorkGroupInvocations(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXTASKWORKGROUPINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxTaskWorkGroupInvocations} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxTaskWorkGroupInvocations(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXTASKWORKGROUPINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxTaskTotalMemorySize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxTaskTotalMemorySize(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXTASKTOTALMEMORYSIZE, dst); return this; }
+        /** Copies the {@code maxTaskTotalMemorySize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxTaskTotalMemorySize(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXTASKTOTALMEMORYSIZE, dst); return this; }
+        /** Copies the {@code maxTaskOutputCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxTaskOutputCount(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXTASKOUTPUTCOUNT, dst); return this; }
+        /** Copies the {@code maxTaskOutputCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxTaskOutputCount(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXTASKOUTPUTCOUNT, dst); return this; }
+        /** Copies the {@code maxMeshWorkGroupInvocations} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshWorkGroupInvocations(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHWORKGROUPINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxMeshWorkGroupInvocations} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshWorkGroupInvocations(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHWORKGROUPINVOCATIONS, dst); return this; }
+        /** Copies the {@code maxMeshTotalMemorySize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshTotalMemorySize(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHTOTALMEMORYSIZE, dst); return this; }
+        /** Copies the {@code maxMeshTotalMemorySize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshTotalMemorySize(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHTOTALMEMORYSIZE, dst); return this; }
+        /** Copies the {@code maxMeshOutputVertices} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshOutputVertices(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHOUTPUTVERTICES, dst); return this; }
+        /** Copies the {@code maxMeshOutputVertices} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshOutputVertices(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHOUTPUTVERTICES, dst); return this; }
+        /** Copies the {@code maxMeshOutputPrimitives} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshOutputPrimitives(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHOUTPUTPRIMITIVES, dst); return this; }
+        /** Copies the {@code maxMeshOutputPrimitives} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshOutputPrimitives(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHOUTPUTPRIMITIVES, dst); return this; }
+        /** Copies the {@code maxMeshMultiviewViewCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshMultiviewViewCount(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHMULTIVIEWVIEWCOUNT, dst); return this; }
+        /** Copies the {@code maxMeshMultiviewViewCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMaxMeshMultiviewViewCount(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MAXMESHMULTIVIEWVIEWCOUNT, dst); return this; }
+        /** Copies the {@code meshOutputPerVertexGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMeshOutputPerVertexGranularity(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MESHOUTPUTPERVERTEXGRANULARITY, dst); return this; }
+        /** Copies the {@code meshOutputPerVertexGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMeshOutputPerVertexGranularity(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MESHOUTPUTPERVERTEXGRANULARITY, dst); return this; }
+        /** Copies the {@code meshOutputPerPrimitiveGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMeshOutputPerPrimitiveGranularity(int[] dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MESHOUTPUTPERPRIMITIVEGRANULARITY, dst); return this; }
+        /** Copies the {@code meshOutputPerPrimitiveGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer getMeshOutputPerPrimitiveGranularity(IntBuffer dst) { gather(VkPhysicalDeviceMeshShaderPropertiesNV.MESHOUTPUTPERPRIMITIVEGRANULARITY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceMeshShaderPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMeshShaderPropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceMeshShaderPropertiesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
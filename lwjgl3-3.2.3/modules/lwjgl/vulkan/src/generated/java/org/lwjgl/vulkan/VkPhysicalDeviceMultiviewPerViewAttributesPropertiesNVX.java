@@ -228,6 +228,24 @@ public class VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX extends Str
         return wrap(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX extends Str
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,16 @@ public class VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX extends Str
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceMultiviewPerViewAttributesPropertiesNVX.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -236,6 +236,24 @@ public class VkPhysicalDeviceMultiviewProperties extends Struct implements Nativ
         return wrap(VkPhysicalDeviceMultiviewProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceMultiviewProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMultiviewProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceMultiviewProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceMultiviewProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceMultiviewProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class VkPhysicalDeviceMultiviewProperties extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceMultiviewProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceMultiviewProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceMultiviewProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -346,6 +384,24 @@ public class VkPhysicalDeviceMultiviewProperties extends Struct implements Nativ
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceMultiviewProperties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceMultiviewProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceMultiviewProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceMultiviewProperties.STYPE, dst); return this; }
+        /** Copies the {@code maxMultiviewViewCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer getMaxMultiviewViewCount(int[] dst) { gather(VkPhysicalDeviceMultiviewProperties.MAXMULTIVIEWVIEWCOUNT, dst); return this; }
+        /** Copies the {@code maxMultiviewViewCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer getMaxMultiviewViewCount(IntBuffer dst) { gather(VkPhysicalDeviceMultiviewProperties.MAXMULTIVIEWVIEWCOUNT, dst); return this; }
+        /** Copies the {@code maxMultiviewInstanceIndex} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer getMaxMultiviewInstanceIndex(int[] dst) { gather(VkPhysicalDeviceMultiviewProperties.MAXMULTIVIEWINSTANCEINDEX, dst); return this; }
+        /** Copies the {@code maxMultiviewInstanceIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer getMaxMultiviewInstanceIndex(IntBuffer dst) { gather(VkPhysicalDeviceMultiviewProperties.MAXMULTIVIEWINSTANCEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceMultiviewProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceMultiviewProperties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceMultiviewProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
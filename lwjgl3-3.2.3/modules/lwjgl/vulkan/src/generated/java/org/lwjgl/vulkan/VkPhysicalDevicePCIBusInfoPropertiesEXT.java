@@ -248,6 +248,24 @@ public class VkPhysicalDevicePCIBusInfoPropertiesEXT extends Struct implements N
         return wrap(VkPhysicalDevicePCIBusInfoPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDevicePCIBusInfoPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePCIBusInfoPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePCIBusInfoPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDevicePCIBusInfoPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePCIBusInfoPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePCIBusInfoPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -286,6 +304,26 @@ public class VkPhysicalDevicePCIBusInfoPropertiesEXT extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -368,6 +406,32 @@ public class VkPhysicalDevicePCIBusInfoPropertiesEXT extends Struct implements N
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDevicePCIBusInfoPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code pciDomain} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciDomain(int[] dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIDOMAIN, dst); return this; }
+        /** Copies the {@code pciDomain} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciDomain(IntBuffer dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIDOMAIN, dst); return this; }
+        /** Copies the {@code pciBus} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciBus(int[] dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIBUS, dst); return this; }
+        /** Copies the {@code pciBus} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciBus(IntBuffer dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIBUS, dst); return this; }
+        /** Copies the {@code pciDevice} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciDevice(int[] dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIDEVICE, dst); return this; }
+        /** Copies the {@code pciDevice} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciDevice(IntBuffer dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIDEVICE, dst); return this; }
+        /** Copies the {@code pciFunction} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciFunction(int[] dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIFUNCTION, dst); return this; }
+        /** Copies the {@code pciFunction} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer getPciFunction(IntBuffer dst) { gather(VkPhysicalDevicePCIBusInfoPropertiesEXT.PCIFUNCTION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDevicePCIBusInfoPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePCIBusInfoPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDevicePCIBusInfoPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,24 @@ public class VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR extends Str
         return wrap(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR extends Str
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,16 @@ public class VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR extends Str
         /** Sets the specified value to the {@code pipelineExecutableInfo} field. */
         public VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer pipelineExecutableInfo(@NativeType("VkBool32") boolean value) { VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.npipelineExecutableInfo(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDevicePipelineExecutablePropertiesFeaturesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkPhysicalDevicePointClippingProperties extends Struct implements N
         return wrap(VkPhysicalDevicePointClippingProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDevicePointClippingProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePointClippingProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePointClippingProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDevicePointClippingProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePointClippingProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePointClippingProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDevicePointClippingProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDevicePointClippingProperties extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDevicePointClippingProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePointClippingProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDevicePointClippingProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePointClippingProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDevicePointClippingProperties extends Struct implements N
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDevicePointClippingProperties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDevicePointClippingProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePointClippingProperties.Buffer getSType(int[] dst) { gather(VkPhysicalDevicePointClippingProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePointClippingProperties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDevicePointClippingProperties.STYPE, dst); return this; }
+        /** Copies the {@code pointClippingBehavior} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePointClippingProperties.Buffer getPointClippingBehavior(int[] dst) { gather(VkPhysicalDevicePointClippingProperties.POINTCLIPPINGBEHAVIOR, dst); return this; }
+        /** Copies the {@code pointClippingBehavior} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePointClippingProperties.Buffer getPointClippingBehavior(IntBuffer dst) { gather(VkPhysicalDevicePointClippingProperties.POINTCLIPPINGBEHAVIOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePointClippingProperties.Buffer putSType(int[] src) { scatter(VkPhysicalDevicePointClippingProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePointClippingProperties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDevicePointClippingProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -279,6 +279,24 @@ public class VkPhysicalDeviceProperties extends Struct implements NativeResource
         return wrap(VkPhysicalDeviceProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -317,6 +335,26 @@ public class VkPhysicalDeviceProperties extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #apiVersion}. */
@@ -414,6 +452,27 @@ public class VkPhysicalDeviceProperties extends Struct implements NativeResource
         /** Returns a {@link VkPhysicalDeviceSparseProperties} view of the {@code sparseProperties} field. */
         public VkPhysicalDeviceSparseProperties sparseProperties() { return VkPhysicalDeviceProperties.nsparseProperties(address()); }
 
+        /** Copies the {@code apiVersion} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProperties.Buffer getApiVersion(int[] dst) { gather(VkPhysicalDeviceProperties.APIVERSION, dst); return this; }
+        /** Copies the {@code apiVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProperties.Buffer getApiVersion(IntBuffer dst) { gather(VkPhysicalDeviceProperties.APIVERSION, dst); return this; }
+        /** Copies the {@code driverVersion} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProperties.Buffer getDriverVersion(int[] dst) { gather(VkPhysicalDeviceProperties.DRIVERVERSION, dst); return this; }
+        /** Copies the {@code driverVersion} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProperties.Buffer getDriverVersion(IntBuffer dst) { gather(VkPhysicalDeviceProperties.DRIVERVERSION, dst); return this; }
+        /** Copies the {@code vendorID} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProperties.Buffer getVendorID(int[] dst) { gather(VkPhysicalDeviceProperties.VENDORID, dst); return this; }
+        /** Copies the {@code vendorID} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProperties.Buffer getVendorID(IntBuffer dst) { gather(VkPhysicalDeviceProperties.VENDORID, dst); return this; }
+        /** Copies the {@code deviceID} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProperties.Buffer getDeviceID(int[] dst) { gather(VkPhysicalDeviceProperties.DEVICEID, dst); return this; }
+        /** Copies the {@code deviceID} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProperties.Buffer getDeviceID(IntBuffer dst) { gather(VkPhysicalDeviceProperties.DEVICEID, dst); return this; }
+        /** Copies the {@code deviceType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProperties.Buffer getDeviceType(int[] dst) { gather(VkPhysicalDeviceProperties.DEVICETYPE, dst); return this; }
+        /** Copies the {@code deviceType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProperties.Buffer getDeviceType(IntBuffer dst) { gather(VkPhysicalDeviceProperties.DEVICETYPE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
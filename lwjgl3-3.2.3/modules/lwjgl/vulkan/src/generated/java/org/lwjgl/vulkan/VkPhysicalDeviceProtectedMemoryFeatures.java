@@ -230,6 +230,24 @@ public class VkPhysicalDeviceProtectedMemoryFeatures extends Struct implements N
         return wrap(VkPhysicalDeviceProtectedMemoryFeatures.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceProtectedMemoryFeatures} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryFeatures malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceProtectedMemoryFeatures.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceProtectedMemoryFeatures} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryFeatures calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceProtectedMemoryFeatures.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceProtectedMemoryFeatures.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceProtectedMemoryFeatures extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceProtectedMemoryFeatures.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryFeatures.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceProtectedMemoryFeatures.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryFeatures.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceProtectedMemoryFeatures extends Struct implements N
         /** Sets the specified value to the {@code protectedMemory} field. */
         public VkPhysicalDeviceProtectedMemoryFeatures.Buffer protectedMemory(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceProtectedMemoryFeatures.nprotectedMemory(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProtectedMemoryFeatures.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceProtectedMemoryFeatures.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProtectedMemoryFeatures.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceProtectedMemoryFeatures.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceProtectedMemoryFeatures.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceProtectedMemoryFeatures.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceProtectedMemoryFeatures.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceProtectedMemoryFeatures.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkPhysicalDeviceProtectedMemoryProperties extends Struct implements
         return wrap(VkPhysicalDeviceProtectedMemoryProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceProtectedMemoryProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceProtectedMemoryProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceProtectedMemoryProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceProtectedMemoryProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceProtectedMemoryProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceProtectedMemoryProperties extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceProtectedMemoryProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceProtectedMemoryProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceProtectedMemoryProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,16 @@ public class VkPhysicalDeviceProtectedMemoryProperties extends Struct implements
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceProtectedMemoryProperties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceProtectedMemoryProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceProtectedMemoryProperties.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceProtectedMemoryProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceProtectedMemoryProperties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceProtectedMemoryProperties.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceProtectedMemoryProperties.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceProtectedMemoryProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceProtectedMemoryProperties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceProtectedMemoryProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkPhysicalDevicePushDescriptorPropertiesKHR extends Struct implemen
         return wrap(VkPhysicalDevicePushDescriptorPropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDevicePushDescriptorPropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePushDescriptorPropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePushDescriptorPropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDevicePushDescriptorPropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDevicePushDescriptorPropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDevicePushDescriptorPropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDevicePushDescriptorPropertiesKHR extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDevicePushDescriptorPropertiesKHR extends Struct implemen
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDevicePushDescriptorPropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDevicePushDescriptorPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDevicePushDescriptorPropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code maxPushDescriptors} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer getMaxPushDescriptors(int[] dst) { gather(VkPhysicalDevicePushDescriptorPropertiesKHR.MAXPUSHDESCRIPTORS, dst); return this; }
+        /** Copies the {@code maxPushDescriptors} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer getMaxPushDescriptors(IntBuffer dst) { gather(VkPhysicalDevicePushDescriptorPropertiesKHR.MAXPUSHDESCRIPTORS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDevicePushDescriptorPropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDevicePushDescriptorPropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDevicePushDescriptorPropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -284,6 +284,24 @@ public class VkPhysicalDeviceRayTracingPropertiesNV extends Struct implements Na
         return wrap(VkPhysicalDeviceRayTracingPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceRayTracingPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRayTracingPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceRayTracingPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceRayTracingPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRayTracingPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceRayTracingPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceRayTracingPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -322,6 +340,26 @@ public class VkPhysicalDeviceRayTracingPropertiesNV extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceRayTracingPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRayTracingPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceRayTracingPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRayTracingPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -424,6 +462,48 @@ public class VkPhysicalDeviceRayTracingPropertiesNV extends Struct implements Na
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceRayTracingPropertiesNV.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceRayTracingPropertiesNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code shaderGroupHandleSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getShaderGroupHandleSize(int[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.SHADERGROUPHANDLESIZE, dst); return this; }
+        /** Copies the {@code shaderGroupHandleSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getShaderGroupHandleSize(IntBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.SHADERGROUPHANDLESIZE, dst); return this; }
+        /** Copies the {@code maxRecursionDepth} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxRecursionDepth(int[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXRECURSIONDEPTH, dst); return this; }
+        /** Copies the {@code maxRecursionDepth} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxRecursionDepth(IntBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXRECURSIONDEPTH, dst); return this; }
+        /** Copies the {@code maxShaderGroupStride} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxShaderGroupStride(int[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXSHADERGROUPSTRIDE, dst); return this; }
+        /** Copies the {@code maxShaderGroupStride} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxShaderGroupStride(IntBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXSHADERGROUPSTRIDE, dst); return this; }
+        /** Copies the {@code shaderGroupBaseAlignment} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getShaderGroupBaseAlignment(int[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.SHADERGROUPBASEALIGNMENT, dst); return this; }
+        /** Copies the {@code shaderGroupBaseAlignment} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getShaderGroupBaseAlignment(IntBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.SHADERGROUPBASEALIGNMENT, dst); return this; }
+        /** Copies the {@code maxGeometryCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxGeometryCount(long[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXGEOMETRYCOUNT, dst); return this; }
+        /** Copies the {@code maxGeometryCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxGeometryCount(LongBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXGEOMETRYCOUNT, dst); return this; }
+        /** Copies the {@code maxInstanceCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxInstanceCount(long[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXINSTANCECOUNT, dst); return this; }
+        /** Copies the {@code maxInstanceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxInstanceCount(LongBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXINSTANCECOUNT, dst); return this; }
+        /** Copies the {@code maxTriangleCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxTriangleCount(long[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXTRIANGLECOUNT, dst); return this; }
+        /** Copies the {@code maxTriangleCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxTriangleCount(LongBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXTRIANGLECOUNT, dst); return this; }
+        /** Copies the {@code maxDescriptorSetAccelerationStructures} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxDescriptorSetAccelerationStructures(int[] dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXDESCRIPTORSETACCELERATIONSTRUCTURES, dst); return this; }
+        /** Copies the {@code maxDescriptorSetAccelerationStructures} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer getMaxDescriptorSetAccelerationStructures(IntBuffer dst) { gather(VkPhysicalDeviceRayTracingPropertiesNV.MAXDESCRIPTORSETACCELERATIONSTRUCTURES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceRayTracingPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceRayTracingPropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceRayTracingPropertiesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
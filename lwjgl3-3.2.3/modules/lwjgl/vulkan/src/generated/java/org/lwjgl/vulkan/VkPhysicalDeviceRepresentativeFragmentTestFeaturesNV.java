@@ -230,6 +230,24 @@ public class VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV extends Struct
         return wrap(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV extends Struct
         /** Sets the specified value to the {@code representativeFragmentTest} field. */
         public VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer representativeFragmentTest(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.nrepresentativeFragmentTest(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceRepresentativeFragmentTestFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -266,6 +266,24 @@ public class VkPhysicalDeviceSampleLocationsPropertiesEXT extends Struct impleme
         return wrap(VkPhysicalDeviceSampleLocationsPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSampleLocationsPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSampleLocationsPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSampleLocationsPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSampleLocationsPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSampleLocationsPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSampleLocationsPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -304,6 +322,26 @@ public class VkPhysicalDeviceSampleLocationsPropertiesEXT extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -396,6 +434,24 @@ public class VkPhysicalDeviceSampleLocationsPropertiesEXT extends Struct impleme
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceSampleLocationsPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSampleLocationsPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSampleLocationsPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sampleLocationSampleCounts} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer getSampleLocationSampleCounts(int[] dst) { gather(VkPhysicalDeviceSampleLocationsPropertiesEXT.SAMPLELOCATIONSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampleLocationSampleCounts} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer getSampleLocationSampleCounts(IntBuffer dst) { gather(VkPhysicalDeviceSampleLocationsPropertiesEXT.SAMPLELOCATIONSAMPLECOUNTS, dst); return this; }
+        /** Copies the {@code sampleLocationSubPixelBits} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer getSampleLocationSubPixelBits(int[] dst) { gather(VkPhysicalDeviceSampleLocationsPropertiesEXT.SAMPLELOCATIONSUBPIXELBITS, dst); return this; }
+        /** Copies the {@code sampleLocationSubPixelBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer getSampleLocationSubPixelBits(IntBuffer dst) { gather(VkPhysicalDeviceSampleLocationsPropertiesEXT.SAMPLELOCATIONSUBPIXELBITS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSampleLocationsPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSampleLocationsPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSampleLocationsPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -257,6 +257,24 @@ public class VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT extends Struct imp
         return wrap(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -295,6 +313,26 @@ public class VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT extends Struct imp
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -367,6 +405,16 @@ public class VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT extends Struct imp
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSamplerFilterMinmaxPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -226,6 +226,24 @@ public class VkPhysicalDeviceSamplerYcbcrConversionFeatures extends Struct imple
         return wrap(VkPhysicalDeviceSamplerYcbcrConversionFeatures.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSamplerYcbcrConversionFeatures} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerYcbcrConversionFeatures malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSamplerYcbcrConversionFeatures.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSamplerYcbcrConversionFeatures} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerYcbcrConversionFeatures calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSamplerYcbcrConversionFeatures.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -264,6 +282,26 @@ public class VkPhysicalDeviceSamplerYcbcrConversionFeatures extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -335,6 +373,16 @@ public class VkPhysicalDeviceSamplerYcbcrConversionFeatures extends Struct imple
         /** Sets the specified value to the {@code samplerYcbcrConversion} field. */
         public VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer samplerYcbcrConversion(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceSamplerYcbcrConversionFeatures.nsamplerYcbcrConversion(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSamplerYcbcrConversionFeatures.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSamplerYcbcrConversionFeatures.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSamplerYcbcrConversionFeatures.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSamplerYcbcrConversionFeatures.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSamplerYcbcrConversionFeatures.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
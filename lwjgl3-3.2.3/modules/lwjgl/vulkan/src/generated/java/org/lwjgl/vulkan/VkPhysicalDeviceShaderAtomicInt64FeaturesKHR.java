@@ -240,6 +240,24 @@ public class VkPhysicalDeviceShaderAtomicInt64FeaturesKHR extends Struct impleme
         return wrap(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderAtomicInt64FeaturesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderAtomicInt64FeaturesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderAtomicInt64FeaturesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderAtomicInt64FeaturesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class VkPhysicalDeviceShaderAtomicInt64FeaturesKHR extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -358,6 +396,16 @@ public class VkPhysicalDeviceShaderAtomicInt64FeaturesKHR extends Struct impleme
         /** Sets the specified value to the {@code shaderSharedInt64Atomics} field. */
         public VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer shaderSharedInt64Atomics(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.nshaderSharedInt64Atomics(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderAtomicInt64FeaturesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -236,6 +236,24 @@ public class VkPhysicalDeviceShaderCoreProperties2AMD extends Struct implements
         return wrap(VkPhysicalDeviceShaderCoreProperties2AMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderCoreProperties2AMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCoreProperties2AMD malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderCoreProperties2AMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderCoreProperties2AMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCoreProperties2AMD calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderCoreProperties2AMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderCoreProperties2AMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class VkPhysicalDeviceShaderCoreProperties2AMD extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderCoreProperties2AMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCoreProperties2AMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderCoreProperties2AMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCoreProperties2AMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -346,6 +384,24 @@ public class VkPhysicalDeviceShaderCoreProperties2AMD extends Struct implements
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceShaderCoreProperties2AMD.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderCoreProperties2AMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderCoreProperties2AMD.STYPE, dst); return this; }
+        /** Copies the {@code shaderCoreFeatures} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer getShaderCoreFeatures(int[] dst) { gather(VkPhysicalDeviceShaderCoreProperties2AMD.SHADERCOREFEATURES, dst); return this; }
+        /** Copies the {@code shaderCoreFeatures} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer getShaderCoreFeatures(IntBuffer dst) { gather(VkPhysicalDeviceShaderCoreProperties2AMD.SHADERCOREFEATURES, dst); return this; }
+        /** Copies the {@code activeComputeUnitCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer getActiveComputeUnitCount(int[] dst) { gather(VkPhysicalDeviceShaderCoreProperties2AMD.ACTIVECOMPUTEUNITCOUNT, dst); return this; }
+        /** Copies the {@code activeComputeUnitCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer getActiveComputeUnitCount(IntBuffer dst) { gather(VkPhysicalDeviceShaderCoreProperties2AMD.ACTIVECOMPUTEUNITCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderCoreProperties2AMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderCoreProperties2AMD.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderCoreProperties2AMD.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -331,6 +331,24 @@ public class VkPhysicalDeviceShaderCorePropertiesAMD extends Struct implements N
         return wrap(VkPhysicalDeviceShaderCorePropertiesAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderCorePropertiesAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCorePropertiesAMD malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderCorePropertiesAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderCorePropertiesAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCorePropertiesAMD calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderCorePropertiesAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderCorePropertiesAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -369,6 +387,26 @@ public class VkPhysicalDeviceShaderCorePropertiesAMD extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderCorePropertiesAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCorePropertiesAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderCorePropertiesAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderCorePropertiesAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -501,6 +539,72 @@ public class VkPhysicalDeviceShaderCorePropertiesAMD extends Struct implements N
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceShaderCorePropertiesAMD.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.STYPE, dst); return this; }
+        /** Copies the {@code shaderEngineCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getShaderEngineCount(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SHADERENGINECOUNT, dst); return this; }
+        /** Copies the {@code shaderEngineCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getShaderEngineCount(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SHADERENGINECOUNT, dst); return this; }
+        /** Copies the {@code shaderArraysPerEngineCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getShaderArraysPerEngineCount(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SHADERARRAYSPERENGINECOUNT, dst); return this; }
+        /** Copies the {@code shaderArraysPerEngineCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getShaderArraysPerEngineCount(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SHADERARRAYSPERENGINECOUNT, dst); return this; }
+        /** Copies the {@code computeUnitsPerShaderArray} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getComputeUnitsPerShaderArray(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.COMPUTEUNITSPERSHADERARRAY, dst); return this; }
+        /** Copies the {@code computeUnitsPerShaderArray} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getComputeUnitsPerShaderArray(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.COMPUTEUNITSPERSHADERARRAY, dst); return this; }
+        /** Copies the {@code simdPerComputeUnit} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSimdPerComputeUnit(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SIMDPERCOMPUTEUNIT, dst); return this; }
+        /** Copies the {@code simdPerComputeUnit} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSimdPerComputeUnit(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SIMDPERCOMPUTEUNIT, dst); return this; }
+        /** Copies the {@code wavefrontsPerSimd} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getWavefrontsPerSimd(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.WAVEFRONTSPERSIMD, dst); return this; }
+        /** Copies the {@code wavefrontsPerSimd} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getWavefrontsPerSimd(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.WAVEFRONTSPERSIMD, dst); return this; }
+        /** Copies the {@code wavefrontSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getWavefrontSize(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.WAVEFRONTSIZE, dst); return this; }
+        /** Copies the {@code wavefrontSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getWavefrontSize(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.WAVEFRONTSIZE, dst); return this; }
+        /** Copies the {@code sgprsPerSimd} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSgprsPerSimd(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SGPRSPERSIMD, dst); return this; }
+        /** Copies the {@code sgprsPerSimd} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSgprsPerSimd(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SGPRSPERSIMD, dst); return this; }
+        /** Copies the {@code minSgprAllocation} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMinSgprAllocation(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MINSGPRALLOCATION, dst); return this; }
+        /** Copies the {@code minSgprAllocation} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMinSgprAllocation(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MINSGPRALLOCATION, dst); return this; }
+        /** Copies the {@code maxSgprAllocation} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMaxSgprAllocation(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MAXSGPRALLOCATION, dst); return this; }
+        /** Copies the {@code maxSgprAllocation} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMaxSgprAllocation(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MAXSGPRALLOCATION, dst); return this; }
+        /** Copies the {@code sgprAllocationGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSgprAllocationGranularity(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SGPRALLOCATIONGRANULARITY, dst); return this; }
+        /** Copies the {@code sgprAllocationGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getSgprAllocationGranularity(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.SGPRALLOCATIONGRANULARITY, dst); return this; }
+        /** Copies the {@code vgprsPerSimd} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getVgprsPerSimd(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.VGPRSPERSIMD, dst); return this; }
+        /** Copies the {@code vgprsPerSimd} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getVgprsPerSimd(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.VGPRSPERSIMD, dst); return this; }
+        /** Copies the {@code minVgprAllocation} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMinVgprAllocation(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MINVGPRALLOCATION, dst); return this; }
+        /** Copies the {@code minVgprAllocation} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMinVgprAllocation(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MINVGPRALLOCATION, dst); return this; }
+        /** Copies the {@code maxVgprAllocation} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMaxVgprAllocation(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MAXVGPRALLOCATION, dst); return this; }
+        /** Copies the {@code maxVgprAllocation} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getMaxVgprAllocation(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.MAXVGPRALLOCATION, dst); return this; }
+        /** Copies the {@code vgprAllocationGranularity} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getVgprAllocationGranularity(int[] dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.VGPRALLOCATIONGRANULARITY, dst); return this; }
+        /** Copies the {@code vgprAllocationGranularity} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer getVgprAllocationGranularity(IntBuffer dst) { gather(VkPhysicalDeviceShaderCorePropertiesAMD.VGPRALLOCATIONGRANULARITY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderCorePropertiesAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderCorePropertiesAMD.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderCorePropertiesAMD.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
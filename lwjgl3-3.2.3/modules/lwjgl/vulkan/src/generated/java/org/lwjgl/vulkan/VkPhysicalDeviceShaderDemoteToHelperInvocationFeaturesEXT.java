@@ -230,6 +230,24 @@ public class VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT extends S
         return wrap(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT extends S
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT extends S
         /** Sets the specified value to the {@code shaderDemoteToHelperInvocation} field. */
         public VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer shaderDemoteToHelperInvocation(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.nshaderDemoteToHelperInvocation(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderDemoteToHelperInvocationFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -240,6 +240,24 @@ public class VkPhysicalDeviceShaderFloat16Int8FeaturesKHR extends Struct impleme
         return wrap(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderFloat16Int8FeaturesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderFloat16Int8FeaturesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderFloat16Int8FeaturesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderFloat16Int8FeaturesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -278,6 +296,26 @@ public class VkPhysicalDeviceShaderFloat16Int8FeaturesKHR extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -358,6 +396,16 @@ public class VkPhysicalDeviceShaderFloat16Int8FeaturesKHR extends Struct impleme
         /** Sets the specified value to the {@code shaderInt8} field. */
         public VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer shaderInt8(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.nshaderInt8(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderFloat16Int8FeaturesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -232,6 +232,24 @@ public class VkPhysicalDeviceShaderImageFootprintFeaturesNV extends Struct imple
         return wrap(VkPhysicalDeviceShaderImageFootprintFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderImageFootprintFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderImageFootprintFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderImageFootprintFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderImageFootprintFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderImageFootprintFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderImageFootprintFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -270,6 +288,26 @@ public class VkPhysicalDeviceShaderImageFootprintFeaturesNV extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -341,6 +379,16 @@ public class VkPhysicalDeviceShaderImageFootprintFeaturesNV extends Struct imple
         /** Sets the specified value to the {@code imageFootprint} field. */
         public VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer imageFootprint(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShaderImageFootprintFeaturesNV.nimageFootprint(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderImageFootprintFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderImageFootprintFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderImageFootprintFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderImageFootprintFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderImageFootprintFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL extends Struct
         return wrap(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL extends Struct
         /** Sets the specified value to the {@code shaderIntegerFunctions2} field. */
         public VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer shaderIntegerFunctions2(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.nshaderIntegerFunctions2(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderIntegerFunctions2FeaturesINTEL.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class VkPhysicalDeviceShaderSMBuiltinsFeaturesNV extends Struct implement
         return wrap(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderSMBuiltinsFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderSMBuiltinsFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceShaderSMBuiltinsFeaturesNV extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceShaderSMBuiltinsFeaturesNV extends Struct implement
         /** Sets the specified value to the {@code shaderSMBuiltins} field. */
         public VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer shaderSMBuiltins(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.nshaderSMBuiltins(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderSMBuiltinsFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
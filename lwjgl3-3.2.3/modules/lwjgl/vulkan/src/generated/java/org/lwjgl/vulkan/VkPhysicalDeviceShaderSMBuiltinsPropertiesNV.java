@@ -236,6 +236,24 @@ public class VkPhysicalDeviceShaderSMBuiltinsPropertiesNV extends Struct impleme
         return wrap(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderSMBuiltinsPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShaderSMBuiltinsPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class VkPhysicalDeviceShaderSMBuiltinsPropertiesNV extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -346,6 +384,24 @@ public class VkPhysicalDeviceShaderSMBuiltinsPropertiesNV extends Struct impleme
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code shaderSMCount} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer getShaderSMCount(int[] dst) { gather(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.SHADERSMCOUNT, dst); return this; }
+        /** Copies the {@code shaderSMCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer getShaderSMCount(IntBuffer dst) { gather(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.SHADERSMCOUNT, dst); return this; }
+        /** Copies the {@code shaderWarpsPerSM} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer getShaderWarpsPerSM(int[] dst) { gather(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.SHADERWARPSPERSM, dst); return this; }
+        /** Copies the {@code shaderWarpsPerSM} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer getShaderWarpsPerSM(IntBuffer dst) { gather(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.SHADERWARPSPERSM, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShaderSMBuiltinsPropertiesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -244,6 +244,24 @@ public class VkPhysicalDeviceShadingRateImageFeaturesNV extends Struct implement
         return wrap(VkPhysicalDeviceShadingRateImageFeaturesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShadingRateImageFeaturesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImageFeaturesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShadingRateImageFeaturesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShadingRateImageFeaturesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImageFeaturesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShadingRateImageFeaturesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -282,6 +300,26 @@ public class VkPhysicalDeviceShadingRateImageFeaturesNV extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -362,6 +400,16 @@ public class VkPhysicalDeviceShadingRateImageFeaturesNV extends Struct implement
         /** Sets the specified value to the {@code shadingRateCoarseSampleOrder} field. */
         public VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer shadingRateCoarseSampleOrder(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceShadingRateImageFeaturesNV.nshadingRateCoarseSampleOrder(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShadingRateImageFeaturesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShadingRateImageFeaturesNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShadingRateImageFeaturesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShadingRateImageFeaturesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShadingRateImageFeaturesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -247,6 +247,24 @@ public class VkPhysicalDeviceShadingRateImagePropertiesNV extends Struct impleme
         return wrap(VkPhysicalDeviceShadingRateImagePropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceShadingRateImagePropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImagePropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShadingRateImagePropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceShadingRateImagePropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImagePropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceShadingRateImagePropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkPhysicalDeviceShadingRateImagePropertiesNV extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -361,6 +399,24 @@ public class VkPhysicalDeviceShadingRateImagePropertiesNV extends Struct impleme
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceShadingRateImagePropertiesNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceShadingRateImagePropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceShadingRateImagePropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code shadingRatePaletteSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer getShadingRatePaletteSize(int[] dst) { gather(VkPhysicalDeviceShadingRateImagePropertiesNV.SHADINGRATEPALETTESIZE, dst); return this; }
+        /** Copies the {@code shadingRatePaletteSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer getShadingRatePaletteSize(IntBuffer dst) { gather(VkPhysicalDeviceShadingRateImagePropertiesNV.SHADINGRATEPALETTESIZE, dst); return this; }
+        /** Copies the {@code shadingRateMaxCoarseSamples} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer getShadingRateMaxCoarseSamples(int[] dst) { gather(VkPhysicalDeviceShadingRateImagePropertiesNV.SHADINGRATEMAXCOARSESAMPLES, dst); return this; }
+        /** Copies the {@code shadingRateMaxCoarseSamples} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer getShadingRateMaxCoarseSamples(IntBuffer dst) { gather(VkPhysicalDeviceShadingRateImagePropertiesNV.SHADINGRATEMAXCOARSESAMPLES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceShadingRateImagePropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceShadingRateImagePropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceShadingRateImagePropertiesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -293,6 +293,24 @@ public class VkPhysicalDeviceSparseImageFormatInfo2 extends Struct implements Na
         return wrap(VkPhysicalDeviceSparseImageFormatInfo2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSparseImageFormatInfo2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSparseImageFormatInfo2 malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSparseImageFormatInfo2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSparseImageFormatInfo2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSparseImageFormatInfo2 calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSparseImageFormatInfo2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSparseImageFormatInfo2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class VkPhysicalDeviceSparseImageFormatInfo2 extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSparseImageFormatInfo2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSparseImageFormatInfo2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSparseImageFormatInfo2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSparseImageFormatInfo2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -438,6 +476,56 @@ public class VkPhysicalDeviceSparseImageFormatInfo2 extends Struct implements Na
         /** Sets the specified value to the {@code tiling} field. */
         public VkPhysicalDeviceSparseImageFormatInfo2.Buffer tiling(@NativeType("VkImageTiling") int value) { VkPhysicalDeviceSparseImageFormatInfo2.ntiling(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.STYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getFormat(int[] dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getFormat(IntBuffer dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.FORMAT, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getType(int[] dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getType(IntBuffer dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.TYPE, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getSamples(int[] dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.SAMPLES, dst); return this; }
+        /** Copies the {@code samples} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getSamples(IntBuffer dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.SAMPLES, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getUsage(int[] dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.USAGE, dst); return this; }
+        /** Copies the {@code usage} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getUsage(IntBuffer dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.USAGE, dst); return this; }
+        /** Copies the {@code tiling} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getTiling(int[] dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.TILING, dst); return this; }
+        /** Copies the {@code tiling} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer getTiling(IntBuffer dst) { gather(VkPhysicalDeviceSparseImageFormatInfo2.TILING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putFormat(int[] src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putFormat(IntBuffer src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putType(int[] src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putType(IntBuffer src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code samples} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putSamples(int[] src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.SAMPLES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code samples} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putSamples(IntBuffer src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.SAMPLES, src); return this; }
+        /** Copies the values in the specified array to the {@code usage} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putUsage(int[] src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.USAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code usage} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putUsage(IntBuffer src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.USAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code tiling} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putTiling(int[] src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.TILING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code tiling} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSparseImageFormatInfo2.Buffer putTiling(IntBuffer src) { scatter(VkPhysicalDeviceSparseImageFormatInfo2.TILING, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class VkPhysicalDeviceSubgroupProperties extends Struct implements Native
         return wrap(VkPhysicalDeviceSubgroupProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSubgroupProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupProperties malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSubgroupProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSubgroupProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupProperties calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSubgroupProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSubgroupProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPhysicalDeviceSubgroupProperties extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSubgroupProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSubgroupProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -372,6 +410,28 @@ public class VkPhysicalDeviceSubgroupProperties extends Struct implements Native
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceSubgroupProperties.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceSubgroupProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSubgroupProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupProperties.STYPE, dst); return this; }
+        /** Copies the {@code subgroupSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSubgroupSize(int[] dst) { gather(VkPhysicalDeviceSubgroupProperties.SUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code subgroupSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSubgroupSize(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupProperties.SUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code supportedStages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSupportedStages(int[] dst) { gather(VkPhysicalDeviceSubgroupProperties.SUPPORTEDSTAGES, dst); return this; }
+        /** Copies the {@code supportedStages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSupportedStages(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupProperties.SUPPORTEDSTAGES, dst); return this; }
+        /** Copies the {@code supportedOperations} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSupportedOperations(int[] dst) { gather(VkPhysicalDeviceSubgroupProperties.SUPPORTEDOPERATIONS, dst); return this; }
+        /** Copies the {@code supportedOperations} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer getSupportedOperations(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupProperties.SUPPORTEDOPERATIONS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSubgroupProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSubgroupProperties.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSubgroupProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class VkPhysicalDeviceSubgroupSizeControlPropertiesEXT extends Struct imp
         return wrap(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSubgroupSizeControlPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupSizeControlPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSubgroupSizeControlPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupSizeControlPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPhysicalDeviceSubgroupSizeControlPropertiesEXT extends Struct imp
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -372,6 +410,32 @@ public class VkPhysicalDeviceSubgroupSizeControlPropertiesEXT extends Struct imp
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code minSubgroupSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getMinSubgroupSize(int[] dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.MINSUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code minSubgroupSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getMinSubgroupSize(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.MINSUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code maxSubgroupSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getMaxSubgroupSize(int[] dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.MAXSUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code maxSubgroupSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getMaxSubgroupSize(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.MAXSUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code maxComputeWorkgroupSubgroups} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getMaxComputeWorkgroupSubgroups(int[] dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.MAXCOMPUTEWORKGROUPSUBGROUPS, dst); return this; }
+        /** Copies the {@code maxComputeWorkgroupSubgroups} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getMaxComputeWorkgroupSubgroups(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.MAXCOMPUTEWORKGROUPSUBGROUPS, dst); return this; }
+        /** Copies the {@code requiredSubgroupSizeStages} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getRequiredSubgroupSizeStages(int[] dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.REQUIREDSUBGROUPSIZESTAGES, dst); return this; }
+        /** Copies the {@code requiredSubgroupSizeStages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer getRequiredSubgroupSizeStages(IntBuffer dst) { gather(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.REQUIREDSUBGROUPSIZESTAGES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSubgroupSizeControlPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
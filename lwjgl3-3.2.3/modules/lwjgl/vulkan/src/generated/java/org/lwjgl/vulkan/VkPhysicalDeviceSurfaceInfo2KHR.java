@@ -247,6 +247,24 @@ public class VkPhysicalDeviceSurfaceInfo2KHR extends Struct implements NativeRes
         return wrap(VkPhysicalDeviceSurfaceInfo2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceSurfaceInfo2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSurfaceInfo2KHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSurfaceInfo2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceSurfaceInfo2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSurfaceInfo2KHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceSurfaceInfo2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceSurfaceInfo2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkPhysicalDeviceSurfaceInfo2KHR extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceSurfaceInfo2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSurfaceInfo2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceSurfaceInfo2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceSurfaceInfo2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -356,6 +394,24 @@ public class VkPhysicalDeviceSurfaceInfo2KHR extends Struct implements NativeRes
         /** Sets the specified value to the {@code surface} field. */
         public VkPhysicalDeviceSurfaceInfo2KHR.Buffer surface(@NativeType("VkSurfaceKHR") long value) { VkPhysicalDeviceSurfaceInfo2KHR.nsurface(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceSurfaceInfo2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceSurfaceInfo2KHR.STYPE, dst); return this; }
+        /** Copies the {@code surface} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer getSurface(long[] dst) { gather(VkPhysicalDeviceSurfaceInfo2KHR.SURFACE, dst); return this; }
+        /** Copies the {@code surface} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer getSurface(LongBuffer dst) { gather(VkPhysicalDeviceSurfaceInfo2KHR.SURFACE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceSurfaceInfo2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceSurfaceInfo2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code surface} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer putSurface(long[] src) { scatter(VkPhysicalDeviceSurfaceInfo2KHR.SURFACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code surface} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceSurfaceInfo2KHR.Buffer putSurface(LongBuffer src) { scatter(VkPhysicalDeviceSurfaceInfo2KHR.SURFACE, src); return this; }
+
     }
 
 }
\ No newline at end of file
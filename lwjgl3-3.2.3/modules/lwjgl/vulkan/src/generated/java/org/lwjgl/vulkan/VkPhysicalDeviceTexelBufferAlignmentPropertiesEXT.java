@@ -256,6 +256,24 @@ public class VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT extends Struct im
         return wrap(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -294,6 +312,26 @@ public class VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT extends Struct im
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -376,6 +414,24 @@ public class VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT extends Struct im
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code storageTexelBufferOffsetAlignmentBytes} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer getStorageTexelBufferOffsetAlignmentBytes(long[] dst) { gather(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.STORAGETEXELBUFFEROFFSETALIGNMENTBYTES, dst); return this; }
+        /** Copies the {@code storageTexelBufferOffsetAlignmentBytes} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer getStorageTexelBufferOffsetAlignmentBytes(LongBuffer dst) { gather(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.STORAGETEXELBUFFEROFFSETALIGNMENTBYTES, dst); return this; }
+        /** Copies the {@code uniformTexelBufferOffsetAlignmentBytes} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer getUniformTexelBufferOffsetAlignmentBytes(long[] dst) { gather(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.UNIFORMTEXELBUFFEROFFSETALIGNMENTBYTES, dst); return this; }
+        /** Copies the {@code uniformTexelBufferOffsetAlignmentBytes} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer getUniformTexelBufferOffsetAlignmentBytes(LongBuffer dst) { gather(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.UNIFORMTEXELBUFFEROFFSETALIGNMENTBYTES, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceTexelBufferAlignmentPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
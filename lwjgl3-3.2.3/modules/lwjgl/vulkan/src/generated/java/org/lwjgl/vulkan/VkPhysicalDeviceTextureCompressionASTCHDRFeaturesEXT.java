@@ -249,6 +249,24 @@ public class VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT extends Struct
         return wrap(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -358,6 +396,16 @@ public class VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT extends Struct
         /** Sets the specified value to the {@code textureCompressionASTC_HDR} field. */
         public VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer textureCompressionASTC_HDR(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.ntextureCompressionASTC_HDR(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceTextureCompressionASTCHDRFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -300,6 +300,24 @@ public class VkPhysicalDeviceTransformFeedbackPropertiesEXT extends Struct imple
         return wrap(VkPhysicalDeviceTransformFeedbackPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceTransformFeedbackPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTransformFeedbackPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceTransformFeedbackPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceTransformFeedbackPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTransformFeedbackPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceTransformFeedbackPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -338,6 +356,26 @@ public class VkPhysicalDeviceTransformFeedbackPropertiesEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -450,6 +488,40 @@ public class VkPhysicalDeviceTransformFeedbackPropertiesEXT extends Struct imple
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceTransformFeedbackPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackStreams} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackStreams(int[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKSTREAMS, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackStreams} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackStreams(IntBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKSTREAMS, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBuffers} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBuffers(int[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERS, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBuffers} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBuffers(IntBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERS, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBufferSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBufferSize(long[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERSIZE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBufferSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBufferSize(LongBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERSIZE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackStreamDataSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackStreamDataSize(int[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKSTREAMDATASIZE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackStreamDataSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackStreamDataSize(IntBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKSTREAMDATASIZE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBufferDataSize} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBufferDataSize(int[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERDATASIZE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBufferDataSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBufferDataSize(IntBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERDATASIZE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBufferDataStride} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBufferDataStride(int[] dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERDATASTRIDE, dst); return this; }
+        /** Copies the {@code maxTransformFeedbackBufferDataStride} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer getMaxTransformFeedbackBufferDataStride(IntBuffer dst) { gather(VkPhysicalDeviceTransformFeedbackPropertiesEXT.MAXTRANSFORMFEEDBACKBUFFERDATASTRIDE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceTransformFeedbackPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceTransformFeedbackPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceTransformFeedbackPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
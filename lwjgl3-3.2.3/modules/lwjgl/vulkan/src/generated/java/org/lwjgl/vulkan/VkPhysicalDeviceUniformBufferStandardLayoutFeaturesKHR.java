@@ -230,6 +230,24 @@ public class VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR extends Stru
         return wrap(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR extends Stru
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR extends Stru
         /** Sets the specified value to the {@code uniformBufferStandardLayout} field. */
         public VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer uniformBufferStandardLayout(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.nuniformBufferStandardLayout(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceUniformBufferStandardLayoutFeaturesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -248,6 +248,24 @@ public class VkPhysicalDeviceVariablePointersFeatures extends Struct implements
         return wrap(VkPhysicalDeviceVariablePointersFeatures.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceVariablePointersFeatures} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVariablePointersFeatures malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceVariablePointersFeatures.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceVariablePointersFeatures} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVariablePointersFeatures calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceVariablePointersFeatures.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceVariablePointersFeatures.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -286,6 +304,26 @@ public class VkPhysicalDeviceVariablePointersFeatures extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceVariablePointersFeatures.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVariablePointersFeatures.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceVariablePointersFeatures.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVariablePointersFeatures.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -366,6 +404,16 @@ public class VkPhysicalDeviceVariablePointersFeatures extends Struct implements
         /** Sets the specified value to the {@code variablePointers} field. */
         public VkPhysicalDeviceVariablePointersFeatures.Buffer variablePointers(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceVariablePointersFeatures.nvariablePointers(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceVariablePointersFeatures.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceVariablePointersFeatures.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceVariablePointersFeatures.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceVariablePointersFeatures.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceVariablePointersFeatures.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceVariablePointersFeatures.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceVariablePointersFeatures.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceVariablePointersFeatures.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
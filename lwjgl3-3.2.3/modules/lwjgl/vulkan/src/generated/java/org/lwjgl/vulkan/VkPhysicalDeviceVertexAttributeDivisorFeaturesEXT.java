@@ -244,6 +244,24 @@ public class VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT extends Struct im
         return wrap(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -282,6 +300,26 @@ public class VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT extends Struct im
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -362,6 +400,16 @@ public class VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT extends Struct im
         /** Sets the specified value to the {@code vertexAttributeInstanceRateZeroDivisor} field. */
         public VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer vertexAttributeInstanceRateZeroDivisor(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.nvertexAttributeInstanceRateZeroDivisor(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceVertexAttributeDivisorFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
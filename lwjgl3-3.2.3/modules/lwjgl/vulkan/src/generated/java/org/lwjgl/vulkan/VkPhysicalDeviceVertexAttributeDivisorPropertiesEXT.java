@@ -228,6 +228,24 @@ public class VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT extends Struct
         return wrap(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,20 @@ public class VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT extends Struct
         /** Sets the specified value to the {@code pNext} field. */
         public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer pNext(@NativeType("void *") long value) { VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.STYPE, dst); return this; }
+        /** Copies the {@code maxVertexAttribDivisor} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer getMaxVertexAttribDivisor(int[] dst) { gather(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.MAXVERTEXATTRIBDIVISOR, dst); return this; }
+        /** Copies the {@code maxVertexAttribDivisor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer getMaxVertexAttribDivisor(IntBuffer dst) { gather(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.MAXVERTEXATTRIBDIVISOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceVertexAttributeDivisorPropertiesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class VkPhysicalDeviceYcbcrImageArraysFeaturesEXT extends Struct implemen
         return wrap(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPhysicalDeviceYcbcrImageArraysFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceYcbcrImageArraysFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPhysicalDeviceYcbcrImageArraysFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPhysicalDeviceYcbcrImageArraysFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkPhysicalDeviceYcbcrImageArraysFeaturesEXT extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,16 @@ public class VkPhysicalDeviceYcbcrImageArraysFeaturesEXT extends Struct implemen
         /** Sets the specified value to the {@code ycbcrImageArrays} field. */
         public VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer ycbcrImageArrays(@NativeType("VkBool32") boolean value) { VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.nycbcrImageArrays(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer getSType(int[] dst) { gather(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer putSType(int[] src) { scatter(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkPhysicalDeviceYcbcrImageArraysFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
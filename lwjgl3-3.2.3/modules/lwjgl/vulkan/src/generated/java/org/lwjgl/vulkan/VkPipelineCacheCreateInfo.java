@@ -264,6 +264,24 @@ public class VkPipelineCacheCreateInfo extends Struct implements NativeResource
         return wrap(VkPipelineCacheCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineCacheCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCacheCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineCacheCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineCacheCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCacheCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineCacheCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineCacheCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class VkPipelineCacheCreateInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineCacheCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCacheCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineCacheCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCacheCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -413,6 +451,24 @@ public class VkPipelineCacheCreateInfo extends Struct implements NativeResource
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pInitialData} field. */
         public VkPipelineCacheCreateInfo.Buffer pInitialData(@Nullable @NativeType("void const *") ByteBuffer value) { VkPipelineCacheCreateInfo.npInitialData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCacheCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineCacheCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCacheCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineCacheCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCacheCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineCacheCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCacheCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineCacheCreateInfo.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCacheCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineCacheCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCacheCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineCacheCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCacheCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineCacheCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCacheCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineCacheCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -265,6 +265,24 @@ public class VkPipelineColorBlendAdvancedStateCreateInfoEXT extends Struct imple
         return wrap(VkPipelineColorBlendAdvancedStateCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineColorBlendAdvancedStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAdvancedStateCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineColorBlendAdvancedStateCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineColorBlendAdvancedStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAdvancedStateCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineColorBlendAdvancedStateCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class VkPipelineColorBlendAdvancedStateCreateInfoEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -392,6 +430,24 @@ public class VkPipelineColorBlendAdvancedStateCreateInfoEXT extends Struct imple
         /** Sets the specified value to the {@code blendOverlap} field. */
         public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer blendOverlap(@NativeType("VkBlendOverlapEXT") int value) { VkPipelineColorBlendAdvancedStateCreateInfoEXT.nblendOverlap(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineColorBlendAdvancedStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineColorBlendAdvancedStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code blendOverlap} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer getBlendOverlap(int[] dst) { gather(VkPipelineColorBlendAdvancedStateCreateInfoEXT.BLENDOVERLAP, dst); return this; }
+        /** Copies the {@code blendOverlap} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer getBlendOverlap(IntBuffer dst) { gather(VkPipelineColorBlendAdvancedStateCreateInfoEXT.BLENDOVERLAP, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineColorBlendAdvancedStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineColorBlendAdvancedStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code blendOverlap} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer putBlendOverlap(int[] src) { scatter(VkPipelineColorBlendAdvancedStateCreateInfoEXT.BLENDOVERLAP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code blendOverlap} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAdvancedStateCreateInfoEXT.Buffer putBlendOverlap(IntBuffer src) { scatter(VkPipelineColorBlendAdvancedStateCreateInfoEXT.BLENDOVERLAP, src); return this; }
+
     }
 
 }
\ No newline at end of file
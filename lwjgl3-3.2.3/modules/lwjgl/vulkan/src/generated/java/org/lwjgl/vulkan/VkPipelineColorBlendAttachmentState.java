@@ -312,6 +312,24 @@ public class VkPipelineColorBlendAttachmentState extends Struct implements Nativ
         return wrap(VkPipelineColorBlendAttachmentState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineColorBlendAttachmentState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAttachmentState malloc(MemoryArena arena) {
+        return wrap(VkPipelineColorBlendAttachmentState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineColorBlendAttachmentState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAttachmentState calloc(MemoryArena arena) {
+        return wrap(VkPipelineColorBlendAttachmentState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineColorBlendAttachmentState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -350,6 +368,26 @@ public class VkPipelineColorBlendAttachmentState extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineColorBlendAttachmentState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAttachmentState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineColorBlendAttachmentState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineColorBlendAttachmentState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #blendEnable}. */
@@ -466,6 +504,64 @@ public class VkPipelineColorBlendAttachmentState extends Struct implements Nativ
         /** Sets the specified value to the {@code colorWriteMask} field. */
         public VkPipelineColorBlendAttachmentState.Buffer colorWriteMask(@NativeType("VkColorComponentFlags") int value) { VkPipelineColorBlendAttachmentState.ncolorWriteMask(address(), value); return this; }
 
+        /** Copies the {@code srcColorBlendFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getSrcColorBlendFactor(int[] dst) { gather(VkPipelineColorBlendAttachmentState.SRCCOLORBLENDFACTOR, dst); return this; }
+        /** Copies the {@code srcColorBlendFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getSrcColorBlendFactor(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.SRCCOLORBLENDFACTOR, dst); return this; }
+        /** Copies the {@code dstColorBlendFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getDstColorBlendFactor(int[] dst) { gather(VkPipelineColorBlendAttachmentState.DSTCOLORBLENDFACTOR, dst); return this; }
+        /** Copies the {@code dstColorBlendFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getDstColorBlendFactor(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.DSTCOLORBLENDFACTOR, dst); return this; }
+        /** Copies the {@code colorBlendOp} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getColorBlendOp(int[] dst) { gather(VkPipelineColorBlendAttachmentState.COLORBLENDOP, dst); return this; }
+        /** Copies the {@code colorBlendOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getColorBlendOp(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.COLORBLENDOP, dst); return this; }
+        /** Copies the {@code srcAlphaBlendFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getSrcAlphaBlendFactor(int[] dst) { gather(VkPipelineColorBlendAttachmentState.SRCALPHABLENDFACTOR, dst); return this; }
+        /** Copies the {@code srcAlphaBlendFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getSrcAlphaBlendFactor(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.SRCALPHABLENDFACTOR, dst); return this; }
+        /** Copies the {@code dstAlphaBlendFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getDstAlphaBlendFactor(int[] dst) { gather(VkPipelineColorBlendAttachmentState.DSTALPHABLENDFACTOR, dst); return this; }
+        /** Copies the {@code dstAlphaBlendFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getDstAlphaBlendFactor(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.DSTALPHABLENDFACTOR, dst); return this; }
+        /** Copies the {@code alphaBlendOp} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getAlphaBlendOp(int[] dst) { gather(VkPipelineColorBlendAttachmentState.ALPHABLENDOP, dst); return this; }
+        /** Copies the {@code alphaBlendOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getAlphaBlendOp(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.ALPHABLENDOP, dst); return this; }
+        /** Copies the {@code colorWriteMask} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendAttachmentState.Buffer getColorWriteMask(int[] dst) { gather(VkPipelineColorBlendAttachmentState.COLORWRITEMASK, dst); return this; }
+        /** Copies the {@code colorWriteMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendAttachmentState.Buffer getColorWriteMask(IntBuffer dst) { gather(VkPipelineColorBlendAttachmentState.COLORWRITEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code srcColorBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putSrcColorBlendFactor(int[] src) { scatter(VkPipelineColorBlendAttachmentState.SRCCOLORBLENDFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcColorBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putSrcColorBlendFactor(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.SRCCOLORBLENDFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code dstColorBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putDstColorBlendFactor(int[] src) { scatter(VkPipelineColorBlendAttachmentState.DSTCOLORBLENDFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstColorBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putDstColorBlendFactor(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.DSTCOLORBLENDFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code colorBlendOp} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putColorBlendOp(int[] src) { scatter(VkPipelineColorBlendAttachmentState.COLORBLENDOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code colorBlendOp} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putColorBlendOp(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.COLORBLENDOP, src); return this; }
+        /** Copies the values in the specified array to the {@code srcAlphaBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putSrcAlphaBlendFactor(int[] src) { scatter(VkPipelineColorBlendAttachmentState.SRCALPHABLENDFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcAlphaBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putSrcAlphaBlendFactor(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.SRCALPHABLENDFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code dstAlphaBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putDstAlphaBlendFactor(int[] src) { scatter(VkPipelineColorBlendAttachmentState.DSTALPHABLENDFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstAlphaBlendFactor} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putDstAlphaBlendFactor(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.DSTALPHABLENDFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code alphaBlendOp} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putAlphaBlendOp(int[] src) { scatter(VkPipelineColorBlendAttachmentState.ALPHABLENDOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code alphaBlendOp} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putAlphaBlendOp(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.ALPHABLENDOP, src); return this; }
+        /** Copies the values in the specified array to the {@code colorWriteMask} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putColorWriteMask(int[] src) { scatter(VkPipelineColorBlendAttachmentState.COLORWRITEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code colorWriteMask} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendAttachmentState.Buffer putColorWriteMask(IntBuffer src) { scatter(VkPipelineColorBlendAttachmentState.COLORWRITEMASK, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -309,6 +309,24 @@ public class VkPipelineColorBlendStateCreateInfo extends Struct implements Nativ
         return wrap(VkPipelineColorBlendStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineColorBlendStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineColorBlendStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineColorBlendStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineColorBlendStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineColorBlendStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineColorBlendStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineColorBlendStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -347,6 +365,26 @@ public class VkPipelineColorBlendStateCreateInfo extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineColorBlendStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineColorBlendStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineColorBlendStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineColorBlendStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -500,6 +538,36 @@ public class VkPipelineColorBlendStateCreateInfo extends Struct implements Nativ
         /** Sets the specified value at the specified index of the {@code blendConstants} field. */
         public VkPipelineColorBlendStateCreateInfo.Buffer blendConstants(int index, float value) { VkPipelineColorBlendStateCreateInfo.nblendConstants(address(), index, value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineColorBlendStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineColorBlendStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineColorBlendStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineColorBlendStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code logicOp} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getLogicOp(int[] dst) { gather(VkPipelineColorBlendStateCreateInfo.LOGICOP, dst); return this; }
+        /** Copies the {@code logicOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getLogicOp(IntBuffer dst) { gather(VkPipelineColorBlendStateCreateInfo.LOGICOP, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getAttachmentCount(int[] dst) { gather(VkPipelineColorBlendStateCreateInfo.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer getAttachmentCount(IntBuffer dst) { gather(VkPipelineColorBlendStateCreateInfo.ATTACHMENTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineColorBlendStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineColorBlendStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineColorBlendStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineColorBlendStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code logicOp} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer putLogicOp(int[] src) { scatter(VkPipelineColorBlendStateCreateInfo.LOGICOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code logicOp} field of the structs between the current position and limit. */
+        public VkPipelineColorBlendStateCreateInfo.Buffer putLogicOp(IntBuffer src) { scatter(VkPipelineColorBlendStateCreateInfo.LOGICOP, src); return this; }
+
     }
 
 }
\ No newline at end of file
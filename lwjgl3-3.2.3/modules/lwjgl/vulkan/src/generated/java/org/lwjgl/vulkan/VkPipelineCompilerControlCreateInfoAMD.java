@@ -229,6 +229,24 @@ public class VkPipelineCompilerControlCreateInfoAMD extends Struct implements Na
         return wrap(VkPipelineCompilerControlCreateInfoAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineCompilerControlCreateInfoAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCompilerControlCreateInfoAMD malloc(MemoryArena arena) {
+        return wrap(VkPipelineCompilerControlCreateInfoAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineCompilerControlCreateInfoAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCompilerControlCreateInfoAMD calloc(MemoryArena arena) {
+        return wrap(VkPipelineCompilerControlCreateInfoAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineCompilerControlCreateInfoAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkPipelineCompilerControlCreateInfoAMD extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineCompilerControlCreateInfoAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCompilerControlCreateInfoAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineCompilerControlCreateInfoAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCompilerControlCreateInfoAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkPipelineCompilerControlCreateInfoAMD extends Struct implements Na
         /** Sets the specified value to the {@code compilerControlFlags} field. */
         public VkPipelineCompilerControlCreateInfoAMD.Buffer compilerControlFlags(@NativeType("VkPipelineCompilerControlFlagsAMD") int value) { VkPipelineCompilerControlCreateInfoAMD.ncompilerControlFlags(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer getSType(int[] dst) { gather(VkPipelineCompilerControlCreateInfoAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer getSType(IntBuffer dst) { gather(VkPipelineCompilerControlCreateInfoAMD.STYPE, dst); return this; }
+        /** Copies the {@code compilerControlFlags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer getCompilerControlFlags(int[] dst) { gather(VkPipelineCompilerControlCreateInfoAMD.COMPILERCONTROLFLAGS, dst); return this; }
+        /** Copies the {@code compilerControlFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer getCompilerControlFlags(IntBuffer dst) { gather(VkPipelineCompilerControlCreateInfoAMD.COMPILERCONTROLFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer putSType(int[] src) { scatter(VkPipelineCompilerControlCreateInfoAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer putSType(IntBuffer src) { scatter(VkPipelineCompilerControlCreateInfoAMD.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code compilerControlFlags} field of the structs between the current position and limit. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer putCompilerControlFlags(int[] src) { scatter(VkPipelineCompilerControlCreateInfoAMD.COMPILERCONTROLFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compilerControlFlags} field of the structs between the current position and limit. */
+        public VkPipelineCompilerControlCreateInfoAMD.Buffer putCompilerControlFlags(IntBuffer src) { scatter(VkPipelineCompilerControlCreateInfoAMD.COMPILERCONTROLFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -309,6 +309,24 @@ public class VkPipelineCoverageModulationStateCreateInfoNV extends Struct implem
         return wrap(VkPipelineCoverageModulationStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineCoverageModulationStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCoverageModulationStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineCoverageModulationStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineCoverageModulationStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCoverageModulationStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineCoverageModulationStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineCoverageModulationStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -347,6 +365,26 @@ public class VkPipelineCoverageModulationStateCreateInfoNV extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineCoverageModulationStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCoverageModulationStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineCoverageModulationStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCoverageModulationStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -455,6 +493,40 @@ public class VkPipelineCoverageModulationStateCreateInfoNV extends Struct implem
         /** Sets the address of the specified {@link FloatBuffer} to the {@code pCoverageModulationTable} field. */
         public VkPipelineCoverageModulationStateCreateInfoNV.Buffer pCoverageModulationTable(@Nullable @NativeType("float const *") FloatBuffer value) { VkPipelineCoverageModulationStateCreateInfoNV.npCoverageModulationTable(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getFlags(int[] dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getFlags(IntBuffer dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code coverageModulationMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getCoverageModulationMode(int[] dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONMODE, dst); return this; }
+        /** Copies the {@code coverageModulationMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getCoverageModulationMode(IntBuffer dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONMODE, dst); return this; }
+        /** Copies the {@code coverageModulationTableCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getCoverageModulationTableCount(int[] dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONTABLECOUNT, dst); return this; }
+        /** Copies the {@code coverageModulationTableCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer getCoverageModulationTableCount(IntBuffer dst) { gather(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONTABLECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putFlags(int[] src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putFlags(IntBuffer src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code coverageModulationMode} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putCoverageModulationMode(int[] src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code coverageModulationMode} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putCoverageModulationMode(IntBuffer src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code coverageModulationTableCount} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putCoverageModulationTableCount(int[] src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONTABLECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code coverageModulationTableCount} field of the structs between the current position and limit. */
+        public VkPipelineCoverageModulationStateCreateInfoNV.Buffer putCoverageModulationTableCount(IntBuffer src) { scatter(VkPipelineCoverageModulationStateCreateInfoNV.COVERAGEMODULATIONTABLECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -252,6 +252,24 @@ public class VkPipelineCoverageReductionStateCreateInfoNV extends Struct impleme
         return wrap(VkPipelineCoverageReductionStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineCoverageReductionStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCoverageReductionStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineCoverageReductionStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineCoverageReductionStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCoverageReductionStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineCoverageReductionStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineCoverageReductionStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPipelineCoverageReductionStateCreateInfoNV extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineCoverageReductionStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCoverageReductionStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineCoverageReductionStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCoverageReductionStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -370,6 +408,32 @@ public class VkPipelineCoverageReductionStateCreateInfoNV extends Struct impleme
         /** Sets the specified value to the {@code coverageReductionMode} field. */
         public VkPipelineCoverageReductionStateCreateInfoNV.Buffer coverageReductionMode(@NativeType("VkCoverageReductionModeNV") int value) { VkPipelineCoverageReductionStateCreateInfoNV.ncoverageReductionMode(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineCoverageReductionStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineCoverageReductionStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer getFlags(int[] dst) { gather(VkPipelineCoverageReductionStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer getFlags(IntBuffer dst) { gather(VkPipelineCoverageReductionStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code coverageReductionMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer getCoverageReductionMode(int[] dst) { gather(VkPipelineCoverageReductionStateCreateInfoNV.COVERAGEREDUCTIONMODE, dst); return this; }
+        /** Copies the {@code coverageReductionMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer getCoverageReductionMode(IntBuffer dst) { gather(VkPipelineCoverageReductionStateCreateInfoNV.COVERAGEREDUCTIONMODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineCoverageReductionStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineCoverageReductionStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer putFlags(int[] src) { scatter(VkPipelineCoverageReductionStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer putFlags(IntBuffer src) { scatter(VkPipelineCoverageReductionStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code coverageReductionMode} field of the structs between the current position and limit. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer putCoverageReductionMode(int[] src) { scatter(VkPipelineCoverageReductionStateCreateInfoNV.COVERAGEREDUCTIONMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code coverageReductionMode} field of the structs between the current position and limit. */
+        public VkPipelineCoverageReductionStateCreateInfoNV.Buffer putCoverageReductionMode(IntBuffer src) { scatter(VkPipelineCoverageReductionStateCreateInfoNV.COVERAGEREDUCTIONMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
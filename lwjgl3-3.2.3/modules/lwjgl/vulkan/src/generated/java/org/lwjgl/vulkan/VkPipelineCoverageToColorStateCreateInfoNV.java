@@ -269,6 +269,24 @@ public class VkPipelineCoverageToColorStateCreateInfoNV extends Struct implement
         return wrap(VkPipelineCoverageToColorStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineCoverageToColorStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCoverageToColorStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineCoverageToColorStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineCoverageToColorStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCoverageToColorStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineCoverageToColorStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineCoverageToColorStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class VkPipelineCoverageToColorStateCreateInfoNV extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineCoverageToColorStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCoverageToColorStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineCoverageToColorStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCoverageToColorStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -396,6 +434,32 @@ public class VkPipelineCoverageToColorStateCreateInfoNV extends Struct implement
         /** Sets the specified value to the {@code coverageToColorLocation} field. */
         public VkPipelineCoverageToColorStateCreateInfoNV.Buffer coverageToColorLocation(@NativeType("uint32_t") int value) { VkPipelineCoverageToColorStateCreateInfoNV.ncoverageToColorLocation(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineCoverageToColorStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineCoverageToColorStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer getFlags(int[] dst) { gather(VkPipelineCoverageToColorStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer getFlags(IntBuffer dst) { gather(VkPipelineCoverageToColorStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code coverageToColorLocation} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer getCoverageToColorLocation(int[] dst) { gather(VkPipelineCoverageToColorStateCreateInfoNV.COVERAGETOCOLORLOCATION, dst); return this; }
+        /** Copies the {@code coverageToColorLocation} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer getCoverageToColorLocation(IntBuffer dst) { gather(VkPipelineCoverageToColorStateCreateInfoNV.COVERAGETOCOLORLOCATION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineCoverageToColorStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineCoverageToColorStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer putFlags(int[] src) { scatter(VkPipelineCoverageToColorStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer putFlags(IntBuffer src) { scatter(VkPipelineCoverageToColorStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code coverageToColorLocation} field of the structs between the current position and limit. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer putCoverageToColorLocation(int[] src) { scatter(VkPipelineCoverageToColorStateCreateInfoNV.COVERAGETOCOLORLOCATION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code coverageToColorLocation} field of the structs between the current position and limit. */
+        public VkPipelineCoverageToColorStateCreateInfoNV.Buffer putCoverageToColorLocation(IntBuffer src) { scatter(VkPipelineCoverageToColorStateCreateInfoNV.COVERAGETOCOLORLOCATION, src); return this; }
+
     }
 
 }
\ No newline at end of file
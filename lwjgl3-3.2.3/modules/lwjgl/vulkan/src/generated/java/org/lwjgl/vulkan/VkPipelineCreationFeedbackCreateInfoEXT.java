@@ -275,6 +275,24 @@ public class VkPipelineCreationFeedbackCreateInfoEXT extends Struct implements N
         return wrap(VkPipelineCreationFeedbackCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineCreationFeedbackCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCreationFeedbackCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineCreationFeedbackCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineCreationFeedbackCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineCreationFeedbackCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineCreationFeedbackCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineCreationFeedbackCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -313,6 +331,26 @@ public class VkPipelineCreationFeedbackCreateInfoEXT extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineCreationFeedbackCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCreationFeedbackCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineCreationFeedbackCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineCreationFeedbackCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -422,6 +460,20 @@ public class VkPipelineCreationFeedbackCreateInfoEXT extends Struct implements N
         /** Sets the address of the specified {@link VkPipelineCreationFeedbackEXT.Buffer} to the {@code pPipelineStageCreationFeedbacks} field. */
         public VkPipelineCreationFeedbackCreateInfoEXT.Buffer pPipelineStageCreationFeedbacks(@NativeType("VkPipelineCreationFeedbackEXT *") VkPipelineCreationFeedbackEXT.Buffer value) { VkPipelineCreationFeedbackCreateInfoEXT.npPipelineStageCreationFeedbacks(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCreationFeedbackCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineCreationFeedbackCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCreationFeedbackCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineCreationFeedbackCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code pipelineStageCreationFeedbackCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCreationFeedbackCreateInfoEXT.Buffer getPipelineStageCreationFeedbackCount(int[] dst) { gather(VkPipelineCreationFeedbackCreateInfoEXT.PIPELINESTAGECREATIONFEEDBACKCOUNT, dst); return this; }
+        /** Copies the {@code pipelineStageCreationFeedbackCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCreationFeedbackCreateInfoEXT.Buffer getPipelineStageCreationFeedbackCount(IntBuffer dst) { gather(VkPipelineCreationFeedbackCreateInfoEXT.PIPELINESTAGECREATIONFEEDBACKCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCreationFeedbackCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineCreationFeedbackCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineCreationFeedbackCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineCreationFeedbackCreateInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
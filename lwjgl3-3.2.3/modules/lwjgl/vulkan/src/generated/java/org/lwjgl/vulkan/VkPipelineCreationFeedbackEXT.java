@@ -166,6 +166,15 @@ public class VkPipelineCreationFeedbackEXT extends Struct {
         @NativeType("uint64_t")
         public long duration() { return VkPipelineCreationFeedbackEXT.nduration(address()); }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCreationFeedbackEXT.Buffer getFlags(int[] dst) { gather(VkPipelineCreationFeedbackEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCreationFeedbackEXT.Buffer getFlags(IntBuffer dst) { gather(VkPipelineCreationFeedbackEXT.FLAGS, dst); return this; }
+        /** Copies the {@code duration} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineCreationFeedbackEXT.Buffer getDuration(long[] dst) { gather(VkPipelineCreationFeedbackEXT.DURATION, dst); return this; }
+        /** Copies the {@code duration} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineCreationFeedbackEXT.Buffer getDuration(LongBuffer dst) { gather(VkPipelineCreationFeedbackEXT.DURATION, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -351,6 +351,24 @@ public class VkPipelineDepthStencilStateCreateInfo extends Struct implements Nat
         return wrap(VkPipelineDepthStencilStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineDepthStencilStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineDepthStencilStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineDepthStencilStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineDepthStencilStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineDepthStencilStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineDepthStencilStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineDepthStencilStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -389,6 +407,26 @@ public class VkPipelineDepthStencilStateCreateInfo extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineDepthStencilStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineDepthStencilStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineDepthStencilStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineDepthStencilStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -541,6 +579,48 @@ public class VkPipelineDepthStencilStateCreateInfo extends Struct implements Nat
         /** Sets the specified value to the {@code maxDepthBounds} field. */
         public VkPipelineDepthStencilStateCreateInfo.Buffer maxDepthBounds(float value) { VkPipelineDepthStencilStateCreateInfo.nmaxDepthBounds(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineDepthStencilStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineDepthStencilStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineDepthStencilStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineDepthStencilStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code depthCompareOp} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getDepthCompareOp(int[] dst) { gather(VkPipelineDepthStencilStateCreateInfo.DEPTHCOMPAREOP, dst); return this; }
+        /** Copies the {@code depthCompareOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getDepthCompareOp(IntBuffer dst) { gather(VkPipelineDepthStencilStateCreateInfo.DEPTHCOMPAREOP, dst); return this; }
+        /** Copies the {@code minDepthBounds} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getMinDepthBounds(float[] dst) { gather(VkPipelineDepthStencilStateCreateInfo.MINDEPTHBOUNDS, dst); return this; }
+        /** Copies the {@code minDepthBounds} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getMinDepthBounds(FloatBuffer dst) { gather(VkPipelineDepthStencilStateCreateInfo.MINDEPTHBOUNDS, dst); return this; }
+        /** Copies the {@code maxDepthBounds} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getMaxDepthBounds(float[] dst) { gather(VkPipelineDepthStencilStateCreateInfo.MAXDEPTHBOUNDS, dst); return this; }
+        /** Copies the {@code maxDepthBounds} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer getMaxDepthBounds(FloatBuffer dst) { gather(VkPipelineDepthStencilStateCreateInfo.MAXDEPTHBOUNDS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineDepthStencilStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineDepthStencilStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineDepthStencilStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineDepthStencilStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code depthCompareOp} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putDepthCompareOp(int[] src) { scatter(VkPipelineDepthStencilStateCreateInfo.DEPTHCOMPAREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depthCompareOp} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putDepthCompareOp(IntBuffer src) { scatter(VkPipelineDepthStencilStateCreateInfo.DEPTHCOMPAREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code minDepthBounds} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putMinDepthBounds(float[] src) { scatter(VkPipelineDepthStencilStateCreateInfo.MINDEPTHBOUNDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minDepthBounds} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putMinDepthBounds(FloatBuffer src) { scatter(VkPipelineDepthStencilStateCreateInfo.MINDEPTHBOUNDS, src); return this; }
+        /** Copies the values in the specified array to the {@code maxDepthBounds} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putMaxDepthBounds(float[] src) { scatter(VkPipelineDepthStencilStateCreateInfo.MAXDEPTHBOUNDS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxDepthBounds} field of the structs between the current position and limit. */
+        public VkPipelineDepthStencilStateCreateInfo.Buffer putMaxDepthBounds(FloatBuffer src) { scatter(VkPipelineDepthStencilStateCreateInfo.MAXDEPTHBOUNDS, src); return this; }
+
     }
 
 }
\ No newline at end of file
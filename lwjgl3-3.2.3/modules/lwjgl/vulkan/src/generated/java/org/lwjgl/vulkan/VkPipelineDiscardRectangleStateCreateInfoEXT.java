@@ -277,6 +277,24 @@ public class VkPipelineDiscardRectangleStateCreateInfoEXT extends Struct impleme
         return wrap(VkPipelineDiscardRectangleStateCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineDiscardRectangleStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineDiscardRectangleStateCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineDiscardRectangleStateCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineDiscardRectangleStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineDiscardRectangleStateCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineDiscardRectangleStateCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -315,6 +333,26 @@ public class VkPipelineDiscardRectangleStateCreateInfoEXT extends Struct impleme
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -414,6 +452,40 @@ public class VkPipelineDiscardRectangleStateCreateInfoEXT extends Struct impleme
         /** Sets the address of the specified {@link VkRect2D.Buffer} to the {@code pDiscardRectangles} field. */
         public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer pDiscardRectangles(@Nullable @NativeType("VkRect2D const *") VkRect2D.Buffer value) { VkPipelineDiscardRectangleStateCreateInfoEXT.npDiscardRectangles(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code discardRectangleMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getDiscardRectangleMode(int[] dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLEMODE, dst); return this; }
+        /** Copies the {@code discardRectangleMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getDiscardRectangleMode(IntBuffer dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLEMODE, dst); return this; }
+        /** Copies the {@code discardRectangleCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getDiscardRectangleCount(int[] dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLECOUNT, dst); return this; }
+        /** Copies the {@code discardRectangleCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer getDiscardRectangleCount(IntBuffer dst) { gather(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code discardRectangleMode} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putDiscardRectangleMode(int[] src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLEMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code discardRectangleMode} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putDiscardRectangleMode(IntBuffer src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLEMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code discardRectangleCount} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putDiscardRectangleCount(int[] src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code discardRectangleCount} field of the structs between the current position and limit. */
+        public VkPipelineDiscardRectangleStateCreateInfoEXT.Buffer putDiscardRectangleCount(IntBuffer src) { scatter(VkPipelineDiscardRectangleStateCreateInfoEXT.DISCARDRECTANGLECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -263,6 +263,24 @@ public class VkPipelineDynamicStateCreateInfo extends Struct implements NativeRe
         return wrap(VkPipelineDynamicStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineDynamicStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineDynamicStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineDynamicStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineDynamicStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineDynamicStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineDynamicStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineDynamicStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -301,6 +319,26 @@ public class VkPipelineDynamicStateCreateInfo extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineDynamicStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineDynamicStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineDynamicStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineDynamicStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -412,6 +450,28 @@ public class VkPipelineDynamicStateCreateInfo extends Struct implements NativeRe
         /** Sets the address of the specified {@link IntBuffer} to the {@code pDynamicStates} field. */
         public VkPipelineDynamicStateCreateInfo.Buffer pDynamicStates(@Nullable @NativeType("VkDynamicState const *") IntBuffer value) { VkPipelineDynamicStateCreateInfo.npDynamicStates(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDynamicStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineDynamicStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDynamicStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineDynamicStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDynamicStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineDynamicStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDynamicStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineDynamicStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code dynamicStateCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineDynamicStateCreateInfo.Buffer getDynamicStateCount(int[] dst) { gather(VkPipelineDynamicStateCreateInfo.DYNAMICSTATECOUNT, dst); return this; }
+        /** Copies the {@code dynamicStateCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineDynamicStateCreateInfo.Buffer getDynamicStateCount(IntBuffer dst) { gather(VkPipelineDynamicStateCreateInfo.DYNAMICSTATECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineDynamicStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineDynamicStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineDynamicStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineDynamicStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineDynamicStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineDynamicStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineDynamicStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineDynamicStateCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
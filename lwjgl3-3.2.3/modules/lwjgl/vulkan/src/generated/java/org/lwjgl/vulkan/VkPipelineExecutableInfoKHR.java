@@ -252,6 +252,24 @@ public class VkPipelineExecutableInfoKHR extends Struct implements NativeResourc
         return wrap(VkPipelineExecutableInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineExecutableInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutableInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutableInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineExecutableInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutableInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutableInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineExecutableInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPipelineExecutableInfoKHR extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineExecutableInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutableInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineExecutableInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutableInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -370,6 +408,32 @@ public class VkPipelineExecutableInfoKHR extends Struct implements NativeResourc
         /** Sets the specified value to the {@code executableIndex} field. */
         public VkPipelineExecutableInfoKHR.Buffer executableIndex(@NativeType("uint32_t") int value) { VkPipelineExecutableInfoKHR.nexecutableIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableInfoKHR.Buffer getSType(int[] dst) { gather(VkPipelineExecutableInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkPipelineExecutableInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code pipeline} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableInfoKHR.Buffer getPipeline(long[] dst) { gather(VkPipelineExecutableInfoKHR.PIPELINE, dst); return this; }
+        /** Copies the {@code pipeline} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableInfoKHR.Buffer getPipeline(LongBuffer dst) { gather(VkPipelineExecutableInfoKHR.PIPELINE, dst); return this; }
+        /** Copies the {@code executableIndex} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableInfoKHR.Buffer getExecutableIndex(int[] dst) { gather(VkPipelineExecutableInfoKHR.EXECUTABLEINDEX, dst); return this; }
+        /** Copies the {@code executableIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableInfoKHR.Buffer getExecutableIndex(IntBuffer dst) { gather(VkPipelineExecutableInfoKHR.EXECUTABLEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInfoKHR.Buffer putSType(int[] src) { scatter(VkPipelineExecutableInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkPipelineExecutableInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code pipeline} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInfoKHR.Buffer putPipeline(long[] src) { scatter(VkPipelineExecutableInfoKHR.PIPELINE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipeline} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInfoKHR.Buffer putPipeline(LongBuffer src) { scatter(VkPipelineExecutableInfoKHR.PIPELINE, src); return this; }
+        /** Copies the values in the specified array to the {@code executableIndex} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInfoKHR.Buffer putExecutableIndex(int[] src) { scatter(VkPipelineExecutableInfoKHR.EXECUTABLEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code executableIndex} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInfoKHR.Buffer putExecutableIndex(IntBuffer src) { scatter(VkPipelineExecutableInfoKHR.EXECUTABLEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -298,6 +298,24 @@ public class VkPipelineExecutableInternalRepresentationKHR extends Struct implem
         return wrap(VkPipelineExecutableInternalRepresentationKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineExecutableInternalRepresentationKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutableInternalRepresentationKHR malloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutableInternalRepresentationKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineExecutableInternalRepresentationKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutableInternalRepresentationKHR calloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutableInternalRepresentationKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineExecutableInternalRepresentationKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -336,6 +354,26 @@ public class VkPipelineExecutableInternalRepresentationKHR extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineExecutableInternalRepresentationKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutableInternalRepresentationKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineExecutableInternalRepresentationKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutableInternalRepresentationKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -466,6 +504,16 @@ public class VkPipelineExecutableInternalRepresentationKHR extends Struct implem
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pData} field. */
         public VkPipelineExecutableInternalRepresentationKHR.Buffer pData(@Nullable @NativeType("void *") ByteBuffer value) { VkPipelineExecutableInternalRepresentationKHR.npData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableInternalRepresentationKHR.Buffer getSType(int[] dst) { gather(VkPipelineExecutableInternalRepresentationKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableInternalRepresentationKHR.Buffer getSType(IntBuffer dst) { gather(VkPipelineExecutableInternalRepresentationKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInternalRepresentationKHR.Buffer putSType(int[] src) { scatter(VkPipelineExecutableInternalRepresentationKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutableInternalRepresentationKHR.Buffer putSType(IntBuffer src) { scatter(VkPipelineExecutableInternalRepresentationKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -265,6 +265,24 @@ public class VkPipelineExecutablePropertiesKHR extends Struct implements NativeR
         return wrap(VkPipelineExecutablePropertiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineExecutablePropertiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutablePropertiesKHR malloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutablePropertiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineExecutablePropertiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutablePropertiesKHR calloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutablePropertiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineExecutablePropertiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class VkPipelineExecutablePropertiesKHR extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineExecutablePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutablePropertiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineExecutablePropertiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutablePropertiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -395,6 +433,24 @@ public class VkPipelineExecutablePropertiesKHR extends Struct implements NativeR
         /** Sets the specified value to the {@code pNext} field. */
         public VkPipelineExecutablePropertiesKHR.Buffer pNext(@NativeType("void *") long value) { VkPipelineExecutablePropertiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutablePropertiesKHR.Buffer getSType(int[] dst) { gather(VkPipelineExecutablePropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutablePropertiesKHR.Buffer getSType(IntBuffer dst) { gather(VkPipelineExecutablePropertiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code stages} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutablePropertiesKHR.Buffer getStages(int[] dst) { gather(VkPipelineExecutablePropertiesKHR.STAGES, dst); return this; }
+        /** Copies the {@code stages} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutablePropertiesKHR.Buffer getStages(IntBuffer dst) { gather(VkPipelineExecutablePropertiesKHR.STAGES, dst); return this; }
+        /** Copies the {@code subgroupSize} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutablePropertiesKHR.Buffer getSubgroupSize(int[] dst) { gather(VkPipelineExecutablePropertiesKHR.SUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code subgroupSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutablePropertiesKHR.Buffer getSubgroupSize(IntBuffer dst) { gather(VkPipelineExecutablePropertiesKHR.SUBGROUPSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutablePropertiesKHR.Buffer putSType(int[] src) { scatter(VkPipelineExecutablePropertiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutablePropertiesKHR.Buffer putSType(IntBuffer src) { scatter(VkPipelineExecutablePropertiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -260,6 +260,24 @@ public class VkPipelineExecutableStatisticKHR extends Struct implements NativeRe
         return wrap(VkPipelineExecutableStatisticKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineExecutableStatisticKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutableStatisticKHR malloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutableStatisticKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineExecutableStatisticKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineExecutableStatisticKHR calloc(MemoryArena arena) {
+        return wrap(VkPipelineExecutableStatisticKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineExecutableStatisticKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -298,6 +316,26 @@ public class VkPipelineExecutableStatisticKHR extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineExecutableStatisticKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutableStatisticKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineExecutableStatisticKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineExecutableStatisticKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -389,6 +427,20 @@ public class VkPipelineExecutableStatisticKHR extends Struct implements NativeRe
         /** Sets the specified value to the {@code pNext} field. */
         public VkPipelineExecutableStatisticKHR.Buffer pNext(@NativeType("void *") long value) { VkPipelineExecutableStatisticKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableStatisticKHR.Buffer getSType(int[] dst) { gather(VkPipelineExecutableStatisticKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableStatisticKHR.Buffer getSType(IntBuffer dst) { gather(VkPipelineExecutableStatisticKHR.STYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableStatisticKHR.Buffer getFormat(int[] dst) { gather(VkPipelineExecutableStatisticKHR.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableStatisticKHR.Buffer getFormat(IntBuffer dst) { gather(VkPipelineExecutableStatisticKHR.FORMAT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutableStatisticKHR.Buffer putSType(int[] src) { scatter(VkPipelineExecutableStatisticKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineExecutableStatisticKHR.Buffer putSType(IntBuffer src) { scatter(VkPipelineExecutableStatisticKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -182,6 +182,19 @@ public class VkPipelineExecutableStatisticValueKHR extends Struct {
         /** Returns the value of the {@code f64} field. */
         public double f64() { return VkPipelineExecutableStatisticValueKHR.nf64(address()); }
 
+        /** Copies the {@code i64} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableStatisticValueKHR.Buffer getI64(long[] dst) { gather(VkPipelineExecutableStatisticValueKHR.I64, dst); return this; }
+        /** Copies the {@code i64} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableStatisticValueKHR.Buffer getI64(LongBuffer dst) { gather(VkPipelineExecutableStatisticValueKHR.I64, dst); return this; }
+        /** Copies the {@code u64} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableStatisticValueKHR.Buffer getU64(long[] dst) { gather(VkPipelineExecutableStatisticValueKHR.U64, dst); return this; }
+        /** Copies the {@code u64} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableStatisticValueKHR.Buffer getU64(LongBuffer dst) { gather(VkPipelineExecutableStatisticValueKHR.U64, dst); return this; }
+        /** Copies the {@code f64} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineExecutableStatisticValueKHR.Buffer getF64(double[] dst) { gather(VkPipelineExecutableStatisticValueKHR.F64, dst); return this; }
+        /** Copies the {@code f64} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineExecutableStatisticValueKHR.Buffer getF64(DoubleBuffer dst) { gather(VkPipelineExecutableStatisticValueKHR.F64, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkPipelineInfoKHR extends Struct implements NativeResource {
         return wrap(VkPipelineInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkPipelineInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkPipelineInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkPipelineInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkPipelineInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pipeline} field. */
         public VkPipelineInfoKHR.Buffer pipeline(@NativeType("VkPipeline") long value) { VkPipelineInfoKHR.npipeline(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineInfoKHR.Buffer getSType(int[] dst) { gather(VkPipelineInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkPipelineInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code pipeline} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineInfoKHR.Buffer getPipeline(long[] dst) { gather(VkPipelineInfoKHR.PIPELINE, dst); return this; }
+        /** Copies the {@code pipeline} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineInfoKHR.Buffer getPipeline(LongBuffer dst) { gather(VkPipelineInfoKHR.PIPELINE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineInfoKHR.Buffer putSType(int[] src) { scatter(VkPipelineInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkPipelineInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code pipeline} field of the structs between the current position and limit. */
+        public VkPipelineInfoKHR.Buffer putPipeline(long[] src) { scatter(VkPipelineInfoKHR.PIPELINE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipeline} field of the structs between the current position and limit. */
+        public VkPipelineInfoKHR.Buffer putPipeline(LongBuffer src) { scatter(VkPipelineInfoKHR.PIPELINE, src); return this; }
+
     }
 
 }
\ No newline at end of file
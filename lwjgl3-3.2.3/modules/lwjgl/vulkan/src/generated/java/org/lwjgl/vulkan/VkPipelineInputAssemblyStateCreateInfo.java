@@ -271,6 +271,24 @@ public class VkPipelineInputAssemblyStateCreateInfo extends Struct implements Na
         return wrap(VkPipelineInputAssemblyStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineInputAssemblyStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineInputAssemblyStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineInputAssemblyStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineInputAssemblyStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineInputAssemblyStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineInputAssemblyStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineInputAssemblyStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -309,6 +327,26 @@ public class VkPipelineInputAssemblyStateCreateInfo extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineInputAssemblyStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineInputAssemblyStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineInputAssemblyStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineInputAssemblyStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -398,6 +436,32 @@ public class VkPipelineInputAssemblyStateCreateInfo extends Struct implements Na
         /** Sets the specified value to the {@code primitiveRestartEnable} field. */
         public VkPipelineInputAssemblyStateCreateInfo.Buffer primitiveRestartEnable(@NativeType("VkBool32") boolean value) { VkPipelineInputAssemblyStateCreateInfo.nprimitiveRestartEnable(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineInputAssemblyStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineInputAssemblyStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineInputAssemblyStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineInputAssemblyStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code topology} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer getTopology(int[] dst) { gather(VkPipelineInputAssemblyStateCreateInfo.TOPOLOGY, dst); return this; }
+        /** Copies the {@code topology} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer getTopology(IntBuffer dst) { gather(VkPipelineInputAssemblyStateCreateInfo.TOPOLOGY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineInputAssemblyStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineInputAssemblyStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineInputAssemblyStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineInputAssemblyStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code topology} field of the structs between the current position and limit. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer putTopology(int[] src) { scatter(VkPipelineInputAssemblyStateCreateInfo.TOPOLOGY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code topology} field of the structs between the current position and limit. */
+        public VkPipelineInputAssemblyStateCreateInfo.Buffer putTopology(IntBuffer src) { scatter(VkPipelineInputAssemblyStateCreateInfo.TOPOLOGY, src); return this; }
+
     }
 
 }
\ No newline at end of file
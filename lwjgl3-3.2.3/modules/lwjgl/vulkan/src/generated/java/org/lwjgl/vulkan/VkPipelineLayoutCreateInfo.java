@@ -325,6 +325,24 @@ public class VkPipelineLayoutCreateInfo extends Struct implements NativeResource
         return wrap(VkPipelineLayoutCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineLayoutCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineLayoutCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineLayoutCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineLayoutCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineLayoutCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineLayoutCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineLayoutCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -363,6 +381,26 @@ public class VkPipelineLayoutCreateInfo extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineLayoutCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineLayoutCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineLayoutCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineLayoutCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -494,6 +532,32 @@ public class VkPipelineLayoutCreateInfo extends Struct implements NativeResource
         /** Sets the address of the specified {@link VkPushConstantRange.Buffer} to the {@code pPushConstantRanges} field. */
         public VkPipelineLayoutCreateInfo.Buffer pPushConstantRanges(@Nullable @NativeType("VkPushConstantRange const *") VkPushConstantRange.Buffer value) { VkPipelineLayoutCreateInfo.npPushConstantRanges(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineLayoutCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineLayoutCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineLayoutCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineLayoutCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineLayoutCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineLayoutCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineLayoutCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineLayoutCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code setLayoutCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineLayoutCreateInfo.Buffer getSetLayoutCount(int[] dst) { gather(VkPipelineLayoutCreateInfo.SETLAYOUTCOUNT, dst); return this; }
+        /** Copies the {@code setLayoutCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineLayoutCreateInfo.Buffer getSetLayoutCount(IntBuffer dst) { gather(VkPipelineLayoutCreateInfo.SETLAYOUTCOUNT, dst); return this; }
+        /** Copies the {@code pushConstantRangeCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineLayoutCreateInfo.Buffer getPushConstantRangeCount(int[] dst) { gather(VkPipelineLayoutCreateInfo.PUSHCONSTANTRANGECOUNT, dst); return this; }
+        /** Copies the {@code pushConstantRangeCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineLayoutCreateInfo.Buffer getPushConstantRangeCount(IntBuffer dst) { gather(VkPipelineLayoutCreateInfo.PUSHCONSTANTRANGECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineLayoutCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineLayoutCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineLayoutCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineLayoutCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineLayoutCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineLayoutCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineLayoutCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineLayoutCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -322,6 +322,24 @@ public class VkPipelineMultisampleStateCreateInfo extends Struct implements Nati
         return wrap(VkPipelineMultisampleStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineMultisampleStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineMultisampleStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineMultisampleStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineMultisampleStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineMultisampleStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineMultisampleStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineMultisampleStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -360,6 +378,26 @@ public class VkPipelineMultisampleStateCreateInfo extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineMultisampleStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineMultisampleStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineMultisampleStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineMultisampleStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -489,6 +527,40 @@ public class VkPipelineMultisampleStateCreateInfo extends Struct implements Nati
         /** Sets the specified value to the {@code alphaToOneEnable} field. */
         public VkPipelineMultisampleStateCreateInfo.Buffer alphaToOneEnable(@NativeType("VkBool32") boolean value) { VkPipelineMultisampleStateCreateInfo.nalphaToOneEnable(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineMultisampleStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineMultisampleStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineMultisampleStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineMultisampleStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code rasterizationSamples} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getRasterizationSamples(int[] dst) { gather(VkPipelineMultisampleStateCreateInfo.RASTERIZATIONSAMPLES, dst); return this; }
+        /** Copies the {@code rasterizationSamples} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getRasterizationSamples(IntBuffer dst) { gather(VkPipelineMultisampleStateCreateInfo.RASTERIZATIONSAMPLES, dst); return this; }
+        /** Copies the {@code minSampleShading} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getMinSampleShading(float[] dst) { gather(VkPipelineMultisampleStateCreateInfo.MINSAMPLESHADING, dst); return this; }
+        /** Copies the {@code minSampleShading} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer getMinSampleShading(FloatBuffer dst) { gather(VkPipelineMultisampleStateCreateInfo.MINSAMPLESHADING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineMultisampleStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineMultisampleStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineMultisampleStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineMultisampleStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code rasterizationSamples} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putRasterizationSamples(int[] src) { scatter(VkPipelineMultisampleStateCreateInfo.RASTERIZATIONSAMPLES, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rasterizationSamples} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putRasterizationSamples(IntBuffer src) { scatter(VkPipelineMultisampleStateCreateInfo.RASTERIZATIONSAMPLES, src); return this; }
+        /** Copies the values in the specified array to the {@code minSampleShading} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putMinSampleShading(float[] src) { scatter(VkPipelineMultisampleStateCreateInfo.MINSAMPLESHADING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minSampleShading} field of the structs between the current position and limit. */
+        public VkPipelineMultisampleStateCreateInfo.Buffer putMinSampleShading(FloatBuffer src) { scatter(VkPipelineMultisampleStateCreateInfo.MINSAMPLESHADING, src); return this; }
+
     }
 
 }
\ No newline at end of file
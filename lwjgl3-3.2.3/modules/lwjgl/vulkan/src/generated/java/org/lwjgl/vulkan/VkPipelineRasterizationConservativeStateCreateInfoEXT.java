@@ -259,6 +259,24 @@ public class VkPipelineRasterizationConservativeStateCreateInfoEXT extends Struc
         return wrap(VkPipelineRasterizationConservativeStateCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRasterizationConservativeStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationConservativeStateCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationConservativeStateCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRasterizationConservativeStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationConservativeStateCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationConservativeStateCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkPipelineRasterizationConservativeStateCreateInfoEXT extends Struc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -385,6 +423,40 @@ public class VkPipelineRasterizationConservativeStateCreateInfoEXT extends Struc
         /** Sets the specified value to the {@code extraPrimitiveOverestimationSize} field. */
         public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer extraPrimitiveOverestimationSize(float value) { VkPipelineRasterizationConservativeStateCreateInfoEXT.nextraPrimitiveOverestimationSize(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code conservativeRasterizationMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getConservativeRasterizationMode(int[] dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.CONSERVATIVERASTERIZATIONMODE, dst); return this; }
+        /** Copies the {@code conservativeRasterizationMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getConservativeRasterizationMode(IntBuffer dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.CONSERVATIVERASTERIZATIONMODE, dst); return this; }
+        /** Copies the {@code extraPrimitiveOverestimationSize} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getExtraPrimitiveOverestimationSize(float[] dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.EXTRAPRIMITIVEOVERESTIMATIONSIZE, dst); return this; }
+        /** Copies the {@code extraPrimitiveOverestimationSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer getExtraPrimitiveOverestimationSize(FloatBuffer dst) { gather(VkPipelineRasterizationConservativeStateCreateInfoEXT.EXTRAPRIMITIVEOVERESTIMATIONSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code conservativeRasterizationMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putConservativeRasterizationMode(int[] src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.CONSERVATIVERASTERIZATIONMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code conservativeRasterizationMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putConservativeRasterizationMode(IntBuffer src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.CONSERVATIVERASTERIZATIONMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code extraPrimitiveOverestimationSize} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putExtraPrimitiveOverestimationSize(float[] src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.EXTRAPRIMITIVEOVERESTIMATIONSIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code extraPrimitiveOverestimationSize} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationConservativeStateCreateInfoEXT.Buffer putExtraPrimitiveOverestimationSize(FloatBuffer src) { scatter(VkPipelineRasterizationConservativeStateCreateInfoEXT.EXTRAPRIMITIVEOVERESTIMATIONSIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
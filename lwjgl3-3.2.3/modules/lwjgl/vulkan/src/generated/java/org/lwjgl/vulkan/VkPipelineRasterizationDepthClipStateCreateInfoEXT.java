@@ -241,6 +241,24 @@ public class VkPipelineRasterizationDepthClipStateCreateInfoEXT extends Struct i
         return wrap(VkPipelineRasterizationDepthClipStateCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRasterizationDepthClipStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationDepthClipStateCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationDepthClipStateCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRasterizationDepthClipStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationDepthClipStateCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationDepthClipStateCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -279,6 +297,26 @@ public class VkPipelineRasterizationDepthClipStateCreateInfoEXT extends Struct i
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -359,6 +397,24 @@ public class VkPipelineRasterizationDepthClipStateCreateInfoEXT extends Struct i
         /** Sets the specified value to the {@code depthClipEnable} field. */
         public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer depthClipEnable(@NativeType("VkBool32") boolean value) { VkPipelineRasterizationDepthClipStateCreateInfoEXT.ndepthClipEnable(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineRasterizationDepthClipStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineRasterizationDepthClipStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkPipelineRasterizationDepthClipStateCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkPipelineRasterizationDepthClipStateCreateInfoEXT.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineRasterizationDepthClipStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineRasterizationDepthClipStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkPipelineRasterizationDepthClipStateCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationDepthClipStateCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkPipelineRasterizationDepthClipStateCreateInfoEXT.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -277,6 +277,24 @@ public class VkPipelineRasterizationLineStateCreateInfoEXT extends Struct implem
         return wrap(VkPipelineRasterizationLineStateCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRasterizationLineStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationLineStateCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationLineStateCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRasterizationLineStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationLineStateCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationLineStateCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRasterizationLineStateCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -315,6 +333,26 @@ public class VkPipelineRasterizationLineStateCreateInfoEXT extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRasterizationLineStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationLineStateCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRasterizationLineStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationLineStateCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -413,6 +451,40 @@ public class VkPipelineRasterizationLineStateCreateInfoEXT extends Struct implem
         /** Sets the specified value to the {@code lineStipplePattern} field. */
         public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer lineStipplePattern(@NativeType("uint16_t") short value) { VkPipelineRasterizationLineStateCreateInfoEXT.nlineStipplePattern(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code lineRasterizationMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getLineRasterizationMode(int[] dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.LINERASTERIZATIONMODE, dst); return this; }
+        /** Copies the {@code lineRasterizationMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getLineRasterizationMode(IntBuffer dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.LINERASTERIZATIONMODE, dst); return this; }
+        /** Copies the {@code lineStippleFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getLineStippleFactor(int[] dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEFACTOR, dst); return this; }
+        /** Copies the {@code lineStippleFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getLineStippleFactor(IntBuffer dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEFACTOR, dst); return this; }
+        /** Copies the {@code lineStipplePattern} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getLineStipplePattern(short[] dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEPATTERN, dst); return this; }
+        /** Copies the {@code lineStipplePattern} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer getLineStipplePattern(ShortBuffer dst) { gather(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEPATTERN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code lineRasterizationMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putLineRasterizationMode(int[] src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.LINERASTERIZATIONMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lineRasterizationMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putLineRasterizationMode(IntBuffer src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.LINERASTERIZATIONMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code lineStippleFactor} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putLineStippleFactor(int[] src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lineStippleFactor} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putLineStippleFactor(IntBuffer src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code lineStipplePattern} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putLineStipplePattern(short[] src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEPATTERN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lineStipplePattern} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationLineStateCreateInfoEXT.Buffer putLineStipplePattern(ShortBuffer src) { scatter(VkPipelineRasterizationLineStateCreateInfoEXT.LINESTIPPLEPATTERN, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -366,6 +366,24 @@ public class VkPipelineRasterizationStateCreateInfo extends Struct implements Na
         return wrap(VkPipelineRasterizationStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRasterizationStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRasterizationStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRasterizationStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -404,6 +422,26 @@ public class VkPipelineRasterizationStateCreateInfo extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRasterizationStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRasterizationStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -561,6 +599,80 @@ public class VkPipelineRasterizationStateCreateInfo extends Struct implements Na
         /** Sets the specified value to the {@code lineWidth} field. */
         public VkPipelineRasterizationStateCreateInfo.Buffer lineWidth(float value) { VkPipelineRasterizationStateCreateInfo.nlineWidth(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineRasterizationStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineRasterizationStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code polygonMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getPolygonMode(int[] dst) { gather(VkPipelineRasterizationStateCreateInfo.POLYGONMODE, dst); return this; }
+        /** Copies the {@code polygonMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getPolygonMode(IntBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.POLYGONMODE, dst); return this; }
+        /** Copies the {@code cullMode} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getCullMode(int[] dst) { gather(VkPipelineRasterizationStateCreateInfo.CULLMODE, dst); return this; }
+        /** Copies the {@code cullMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getCullMode(IntBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.CULLMODE, dst); return this; }
+        /** Copies the {@code frontFace} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getFrontFace(int[] dst) { gather(VkPipelineRasterizationStateCreateInfo.FRONTFACE, dst); return this; }
+        /** Copies the {@code frontFace} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getFrontFace(IntBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.FRONTFACE, dst); return this; }
+        /** Copies the {@code depthBiasConstantFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getDepthBiasConstantFactor(float[] dst) { gather(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCONSTANTFACTOR, dst); return this; }
+        /** Copies the {@code depthBiasConstantFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getDepthBiasConstantFactor(FloatBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCONSTANTFACTOR, dst); return this; }
+        /** Copies the {@code depthBiasClamp} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getDepthBiasClamp(float[] dst) { gather(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCLAMP, dst); return this; }
+        /** Copies the {@code depthBiasClamp} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getDepthBiasClamp(FloatBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCLAMP, dst); return this; }
+        /** Copies the {@code depthBiasSlopeFactor} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getDepthBiasSlopeFactor(float[] dst) { gather(VkPipelineRasterizationStateCreateInfo.DEPTHBIASSLOPEFACTOR, dst); return this; }
+        /** Copies the {@code depthBiasSlopeFactor} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getDepthBiasSlopeFactor(FloatBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.DEPTHBIASSLOPEFACTOR, dst); return this; }
+        /** Copies the {@code lineWidth} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getLineWidth(float[] dst) { gather(VkPipelineRasterizationStateCreateInfo.LINEWIDTH, dst); return this; }
+        /** Copies the {@code lineWidth} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer getLineWidth(FloatBuffer dst) { gather(VkPipelineRasterizationStateCreateInfo.LINEWIDTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineRasterizationStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineRasterizationStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code polygonMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putPolygonMode(int[] src) { scatter(VkPipelineRasterizationStateCreateInfo.POLYGONMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code polygonMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putPolygonMode(IntBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.POLYGONMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code cullMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putCullMode(int[] src) { scatter(VkPipelineRasterizationStateCreateInfo.CULLMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code cullMode} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putCullMode(IntBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.CULLMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code frontFace} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putFrontFace(int[] src) { scatter(VkPipelineRasterizationStateCreateInfo.FRONTFACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code frontFace} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putFrontFace(IntBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.FRONTFACE, src); return this; }
+        /** Copies the values in the specified array to the {@code depthBiasConstantFactor} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putDepthBiasConstantFactor(float[] src) { scatter(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCONSTANTFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depthBiasConstantFactor} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putDepthBiasConstantFactor(FloatBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCONSTANTFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code depthBiasClamp} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putDepthBiasClamp(float[] src) { scatter(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCLAMP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depthBiasClamp} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putDepthBiasClamp(FloatBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.DEPTHBIASCLAMP, src); return this; }
+        /** Copies the values in the specified array to the {@code depthBiasSlopeFactor} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putDepthBiasSlopeFactor(float[] src) { scatter(VkPipelineRasterizationStateCreateInfo.DEPTHBIASSLOPEFACTOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depthBiasSlopeFactor} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putDepthBiasSlopeFactor(FloatBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.DEPTHBIASSLOPEFACTOR, src); return this; }
+        /** Copies the values in the specified array to the {@code lineWidth} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putLineWidth(float[] src) { scatter(VkPipelineRasterizationStateCreateInfo.LINEWIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lineWidth} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateCreateInfo.Buffer putLineWidth(FloatBuffer src) { scatter(VkPipelineRasterizationStateCreateInfo.LINEWIDTH, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -231,6 +231,24 @@ public class VkPipelineRasterizationStateRasterizationOrderAMD extends Struct im
         return wrap(VkPipelineRasterizationStateRasterizationOrderAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRasterizationStateRasterizationOrderAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateRasterizationOrderAMD malloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationStateRasterizationOrderAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRasterizationStateRasterizationOrderAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateRasterizationOrderAMD calloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationStateRasterizationOrderAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRasterizationStateRasterizationOrderAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class VkPipelineRasterizationStateRasterizationOrderAMD extends Struct im
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRasterizationStateRasterizationOrderAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateRasterizationOrderAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRasterizationStateRasterizationOrderAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateRasterizationOrderAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -340,6 +378,24 @@ public class VkPipelineRasterizationStateRasterizationOrderAMD extends Struct im
         /** Sets the specified value to the {@code rasterizationOrder} field. */
         public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer rasterizationOrder(@NativeType("VkRasterizationOrderAMD") int value) { VkPipelineRasterizationStateRasterizationOrderAMD.nrasterizationOrder(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer getSType(int[] dst) { gather(VkPipelineRasterizationStateRasterizationOrderAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer getSType(IntBuffer dst) { gather(VkPipelineRasterizationStateRasterizationOrderAMD.STYPE, dst); return this; }
+        /** Copies the {@code rasterizationOrder} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer getRasterizationOrder(int[] dst) { gather(VkPipelineRasterizationStateRasterizationOrderAMD.RASTERIZATIONORDER, dst); return this; }
+        /** Copies the {@code rasterizationOrder} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer getRasterizationOrder(IntBuffer dst) { gather(VkPipelineRasterizationStateRasterizationOrderAMD.RASTERIZATIONORDER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer putSType(int[] src) { scatter(VkPipelineRasterizationStateRasterizationOrderAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer putSType(IntBuffer src) { scatter(VkPipelineRasterizationStateRasterizationOrderAMD.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code rasterizationOrder} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer putRasterizationOrder(int[] src) { scatter(VkPipelineRasterizationStateRasterizationOrderAMD.RASTERIZATIONORDER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rasterizationOrder} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateRasterizationOrderAMD.Buffer putRasterizationOrder(IntBuffer src) { scatter(VkPipelineRasterizationStateRasterizationOrderAMD.RASTERIZATIONORDER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class VkPipelineRasterizationStateStreamCreateInfoEXT extends Struct impl
         return wrap(VkPipelineRasterizationStateStreamCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRasterizationStateStreamCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateStreamCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationStateStreamCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRasterizationStateStreamCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateStreamCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineRasterizationStateStreamCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkPipelineRasterizationStateStreamCreateInfoEXT extends Struct impl
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -371,6 +409,32 @@ public class VkPipelineRasterizationStateStreamCreateInfoEXT extends Struct impl
         /** Sets the specified value to the {@code rasterizationStream} field. */
         public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer rasterizationStream(@NativeType("uint32_t") int value) { VkPipelineRasterizationStateStreamCreateInfoEXT.nrasterizationStream(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineRasterizationStateStreamCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineRasterizationStateStreamCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkPipelineRasterizationStateStreamCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkPipelineRasterizationStateStreamCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code rasterizationStream} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer getRasterizationStream(int[] dst) { gather(VkPipelineRasterizationStateStreamCreateInfoEXT.RASTERIZATIONSTREAM, dst); return this; }
+        /** Copies the {@code rasterizationStream} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer getRasterizationStream(IntBuffer dst) { gather(VkPipelineRasterizationStateStreamCreateInfoEXT.RASTERIZATIONSTREAM, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineRasterizationStateStreamCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineRasterizationStateStreamCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkPipelineRasterizationStateStreamCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkPipelineRasterizationStateStreamCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code rasterizationStream} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer putRasterizationStream(int[] src) { scatter(VkPipelineRasterizationStateStreamCreateInfoEXT.RASTERIZATIONSTREAM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rasterizationStream} field of the structs between the current position and limit. */
+        public VkPipelineRasterizationStateStreamCreateInfoEXT.Buffer putRasterizationStream(IntBuffer src) { scatter(VkPipelineRasterizationStateStreamCreateInfoEXT.RASTERIZATIONSTREAM, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkPipelineRepresentativeFragmentTestStateCreateInfoNV extends Struc
         return wrap(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineRepresentativeFragmentTestStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRepresentativeFragmentTestStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineRepresentativeFragmentTestStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineRepresentativeFragmentTestStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkPipelineRepresentativeFragmentTestStateCreateInfoNV extends Struc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,16 @@ public class VkPipelineRepresentativeFragmentTestStateCreateInfoNV extends Struc
         /** Sets the specified value to the {@code representativeFragmentTestEnable} field. */
         public VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer representativeFragmentTestEnable(@NativeType("VkBool32") boolean value) { VkPipelineRepresentativeFragmentTestStateCreateInfoNV.nrepresentativeFragmentTestEnable(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineRepresentativeFragmentTestStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineRepresentativeFragmentTestStateCreateInfoNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -325,6 +325,24 @@ public class VkPipelineShaderStageCreateInfo extends Struct implements NativeRes
         return wrap(VkPipelineShaderStageCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineShaderStageCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineShaderStageCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineShaderStageCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineShaderStageCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineShaderStageCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineShaderStageCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineShaderStageCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -363,6 +381,26 @@ public class VkPipelineShaderStageCreateInfo extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineShaderStageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineShaderStageCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineShaderStageCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineShaderStageCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -504,6 +542,40 @@ public class VkPipelineShaderStageCreateInfo extends Struct implements NativeRes
         /** Sets the address of the specified {@link VkSpecializationInfo} to the {@code pSpecializationInfo} field. */
         public VkPipelineShaderStageCreateInfo.Buffer pSpecializationInfo(@Nullable @NativeType("VkSpecializationInfo const *") VkSpecializationInfo value) { VkPipelineShaderStageCreateInfo.npSpecializationInfo(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineShaderStageCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineShaderStageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineShaderStageCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineShaderStageCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineShaderStageCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineShaderStageCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineShaderStageCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineShaderStageCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code stage} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineShaderStageCreateInfo.Buffer getStage(int[] dst) { gather(VkPipelineShaderStageCreateInfo.STAGE, dst); return this; }
+        /** Copies the {@code stage} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineShaderStageCreateInfo.Buffer getStage(IntBuffer dst) { gather(VkPipelineShaderStageCreateInfo.STAGE, dst); return this; }
+        /** Copies the {@code module} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineShaderStageCreateInfo.Buffer getModule(long[] dst) { gather(VkPipelineShaderStageCreateInfo.MODULE, dst); return this; }
+        /** Copies the {@code module} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineShaderStageCreateInfo.Buffer getModule(LongBuffer dst) { gather(VkPipelineShaderStageCreateInfo.MODULE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineShaderStageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineShaderStageCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineShaderStageCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineShaderStageCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code stage} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putStage(int[] src) { scatter(VkPipelineShaderStageCreateInfo.STAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stage} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putStage(IntBuffer src) { scatter(VkPipelineShaderStageCreateInfo.STAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code module} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putModule(long[] src) { scatter(VkPipelineShaderStageCreateInfo.MODULE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code module} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageCreateInfo.Buffer putModule(LongBuffer src) { scatter(VkPipelineShaderStageCreateInfo.MODULE, src); return this; }
+
     }
 
 }
\ No newline at end of file
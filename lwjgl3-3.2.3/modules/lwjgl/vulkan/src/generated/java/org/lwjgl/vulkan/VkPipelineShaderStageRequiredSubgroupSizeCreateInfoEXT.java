@@ -220,6 +220,24 @@ public class VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT extends Stru
         return wrap(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT extends Stru
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -325,6 +363,20 @@ public class VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT extends Stru
         /** Sets the specified value to the {@code pNext} field. */
         public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer pNext(@NativeType("void *") long value) { VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code requiredSubgroupSize} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer getRequiredSubgroupSize(int[] dst) { gather(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.REQUIREDSUBGROUPSIZE, dst); return this; }
+        /** Copies the {@code requiredSubgroupSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer getRequiredSubgroupSize(IntBuffer dst) { gather(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.REQUIREDSUBGROUPSIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineShaderStageRequiredSubgroupSizeCreateInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkPipelineTessellationDomainOriginStateCreateInfo extends Struct im
         return wrap(VkPipelineTessellationDomainOriginStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineTessellationDomainOriginStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineTessellationDomainOriginStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineTessellationDomainOriginStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineTessellationDomainOriginStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineTessellationDomainOriginStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineTessellationDomainOriginStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineTessellationDomainOriginStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkPipelineTessellationDomainOriginStateCreateInfo extends Struct im
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineTessellationDomainOriginStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineTessellationDomainOriginStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineTessellationDomainOriginStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineTessellationDomainOriginStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,24 @@ public class VkPipelineTessellationDomainOriginStateCreateInfo extends Struct im
         /** Sets the specified value to the {@code domainOrigin} field. */
         public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer domainOrigin(@NativeType("VkTessellationDomainOrigin") int value) { VkPipelineTessellationDomainOriginStateCreateInfo.ndomainOrigin(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineTessellationDomainOriginStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineTessellationDomainOriginStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code domainOrigin} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer getDomainOrigin(int[] dst) { gather(VkPipelineTessellationDomainOriginStateCreateInfo.DOMAINORIGIN, dst); return this; }
+        /** Copies the {@code domainOrigin} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer getDomainOrigin(IntBuffer dst) { gather(VkPipelineTessellationDomainOriginStateCreateInfo.DOMAINORIGIN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineTessellationDomainOriginStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineTessellationDomainOriginStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code domainOrigin} field of the structs between the current position and limit. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer putDomainOrigin(int[] src) { scatter(VkPipelineTessellationDomainOriginStateCreateInfo.DOMAINORIGIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code domainOrigin} field of the structs between the current position and limit. */
+        public VkPipelineTessellationDomainOriginStateCreateInfo.Buffer putDomainOrigin(IntBuffer src) { scatter(VkPipelineTessellationDomainOriginStateCreateInfo.DOMAINORIGIN, src); return this; }
+
     }
 
 }
\ No newline at end of file
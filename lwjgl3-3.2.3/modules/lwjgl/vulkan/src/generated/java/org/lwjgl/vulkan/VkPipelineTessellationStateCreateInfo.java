@@ -252,6 +252,24 @@ public class VkPipelineTessellationStateCreateInfo extends Struct implements Nat
         return wrap(VkPipelineTessellationStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineTessellationStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineTessellationStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineTessellationStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineTessellationStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineTessellationStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineTessellationStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineTessellationStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -290,6 +308,26 @@ public class VkPipelineTessellationStateCreateInfo extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineTessellationStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineTessellationStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineTessellationStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineTessellationStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -370,6 +408,32 @@ public class VkPipelineTessellationStateCreateInfo extends Struct implements Nat
         /** Sets the specified value to the {@code patchControlPoints} field. */
         public VkPipelineTessellationStateCreateInfo.Buffer patchControlPoints(@NativeType("uint32_t") int value) { VkPipelineTessellationStateCreateInfo.npatchControlPoints(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineTessellationStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineTessellationStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineTessellationStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineTessellationStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineTessellationStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineTessellationStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineTessellationStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineTessellationStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code patchControlPoints} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineTessellationStateCreateInfo.Buffer getPatchControlPoints(int[] dst) { gather(VkPipelineTessellationStateCreateInfo.PATCHCONTROLPOINTS, dst); return this; }
+        /** Copies the {@code patchControlPoints} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineTessellationStateCreateInfo.Buffer getPatchControlPoints(IntBuffer dst) { gather(VkPipelineTessellationStateCreateInfo.PATCHCONTROLPOINTS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineTessellationStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineTessellationStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineTessellationStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineTessellationStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineTessellationStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineTessellationStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineTessellationStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineTessellationStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code patchControlPoints} field of the structs between the current position and limit. */
+        public VkPipelineTessellationStateCreateInfo.Buffer putPatchControlPoints(int[] src) { scatter(VkPipelineTessellationStateCreateInfo.PATCHCONTROLPOINTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code patchControlPoints} field of the structs between the current position and limit. */
+        public VkPipelineTessellationStateCreateInfo.Buffer putPatchControlPoints(IntBuffer src) { scatter(VkPipelineTessellationStateCreateInfo.PATCHCONTROLPOINTS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -243,6 +243,24 @@ public class VkPipelineVertexInputDivisorStateCreateInfoEXT extends Struct imple
         return wrap(VkPipelineVertexInputDivisorStateCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineVertexInputDivisorStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineVertexInputDivisorStateCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkPipelineVertexInputDivisorStateCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineVertexInputDivisorStateCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineVertexInputDivisorStateCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkPipelineVertexInputDivisorStateCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class VkPipelineVertexInputDivisorStateCreateInfoEXT extends Struct imple
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -380,6 +418,20 @@ public class VkPipelineVertexInputDivisorStateCreateInfoEXT extends Struct imple
         /** Sets the address of the specified {@link VkVertexInputBindingDivisorDescriptionEXT.Buffer} to the {@code pVertexBindingDivisors} field. */
         public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer pVertexBindingDivisors(@NativeType("VkVertexInputBindingDivisorDescriptionEXT const *") VkVertexInputBindingDivisorDescriptionEXT.Buffer value) { VkPipelineVertexInputDivisorStateCreateInfoEXT.npVertexBindingDivisors(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkPipelineVertexInputDivisorStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkPipelineVertexInputDivisorStateCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code vertexBindingDivisorCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer getVertexBindingDivisorCount(int[] dst) { gather(VkPipelineVertexInputDivisorStateCreateInfoEXT.VERTEXBINDINGDIVISORCOUNT, dst); return this; }
+        /** Copies the {@code vertexBindingDivisorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer getVertexBindingDivisorCount(IntBuffer dst) { gather(VkPipelineVertexInputDivisorStateCreateInfoEXT.VERTEXBINDINGDIVISORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkPipelineVertexInputDivisorStateCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineVertexInputDivisorStateCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkPipelineVertexInputDivisorStateCreateInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
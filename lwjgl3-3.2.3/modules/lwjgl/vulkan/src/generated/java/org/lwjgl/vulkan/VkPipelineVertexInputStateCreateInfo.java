@@ -289,6 +289,24 @@ public class VkPipelineVertexInputStateCreateInfo extends Struct implements Nati
         return wrap(VkPipelineVertexInputStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineVertexInputStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineVertexInputStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineVertexInputStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineVertexInputStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineVertexInputStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineVertexInputStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineVertexInputStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class VkPipelineVertexInputStateCreateInfo extends Struct implements Nati
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineVertexInputStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineVertexInputStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineVertexInputStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineVertexInputStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -458,6 +496,32 @@ public class VkPipelineVertexInputStateCreateInfo extends Struct implements Nati
         /** Sets the address of the specified {@link VkVertexInputAttributeDescription.Buffer} to the {@code pVertexAttributeDescriptions} field. */
         public VkPipelineVertexInputStateCreateInfo.Buffer pVertexAttributeDescriptions(@Nullable @NativeType("VkVertexInputAttributeDescription const *") VkVertexInputAttributeDescription.Buffer value) { VkPipelineVertexInputStateCreateInfo.npVertexAttributeDescriptions(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineVertexInputStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineVertexInputStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineVertexInputStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineVertexInputStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code vertexBindingDescriptionCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getVertexBindingDescriptionCount(int[] dst) { gather(VkPipelineVertexInputStateCreateInfo.VERTEXBINDINGDESCRIPTIONCOUNT, dst); return this; }
+        /** Copies the {@code vertexBindingDescriptionCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getVertexBindingDescriptionCount(IntBuffer dst) { gather(VkPipelineVertexInputStateCreateInfo.VERTEXBINDINGDESCRIPTIONCOUNT, dst); return this; }
+        /** Copies the {@code vertexAttributeDescriptionCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getVertexAttributeDescriptionCount(int[] dst) { gather(VkPipelineVertexInputStateCreateInfo.VERTEXATTRIBUTEDESCRIPTIONCOUNT, dst); return this; }
+        /** Copies the {@code vertexAttributeDescriptionCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer getVertexAttributeDescriptionCount(IntBuffer dst) { gather(VkPipelineVertexInputStateCreateInfo.VERTEXATTRIBUTEDESCRIPTIONCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineVertexInputStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineVertexInputStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineVertexInputStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineVertexInputStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineVertexInputStateCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -271,6 +271,24 @@ public class VkPipelineViewportCoarseSampleOrderStateCreateInfoNV extends Struct
         return wrap(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineViewportCoarseSampleOrderStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportCoarseSampleOrderStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineViewportCoarseSampleOrderStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportCoarseSampleOrderStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -309,6 +327,26 @@ public class VkPipelineViewportCoarseSampleOrderStateCreateInfoNV extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -423,6 +461,28 @@ public class VkPipelineViewportCoarseSampleOrderStateCreateInfoNV extends Struct
         /** Sets the address of the specified {@link VkCoarseSampleOrderCustomNV.Buffer} to the {@code pCustomSampleOrders} field. */
         public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer pCustomSampleOrders(@Nullable @NativeType("VkCoarseSampleOrderCustomNV const *") VkCoarseSampleOrderCustomNV.Buffer value) { VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.npCustomSampleOrders(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sampleOrderType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer getSampleOrderType(int[] dst) { gather(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.SAMPLEORDERTYPE, dst); return this; }
+        /** Copies the {@code sampleOrderType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer getSampleOrderType(IntBuffer dst) { gather(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.SAMPLEORDERTYPE, dst); return this; }
+        /** Copies the {@code customSampleOrderCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer getCustomSampleOrderCount(int[] dst) { gather(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.CUSTOMSAMPLEORDERCOUNT, dst); return this; }
+        /** Copies the {@code customSampleOrderCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer getCustomSampleOrderCount(IntBuffer dst) { gather(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.CUSTOMSAMPLEORDERCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code sampleOrderType} field of the structs between the current position and limit. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer putSampleOrderType(int[] src) { scatter(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.SAMPLEORDERTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sampleOrderType} field of the structs between the current position and limit. */
+        public VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.Buffer putSampleOrderType(IntBuffer src) { scatter(VkPipelineViewportCoarseSampleOrderStateCreateInfoNV.SAMPLEORDERTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -259,6 +259,24 @@ public class VkPipelineViewportExclusiveScissorStateCreateInfoNV extends Struct
         return wrap(VkPipelineViewportExclusiveScissorStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineViewportExclusiveScissorStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportExclusiveScissorStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportExclusiveScissorStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineViewportExclusiveScissorStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportExclusiveScissorStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportExclusiveScissorStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkPipelineViewportExclusiveScissorStateCreateInfoNV extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -378,6 +416,24 @@ public class VkPipelineViewportExclusiveScissorStateCreateInfoNV extends Struct
         /** Sets the address of the specified {@link VkRect2D.Buffer} to the {@code pExclusiveScissors} field. */
         public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer pExclusiveScissors(@Nullable @NativeType("VkRect2D const *") VkRect2D.Buffer value) { VkPipelineViewportExclusiveScissorStateCreateInfoNV.npExclusiveScissors(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineViewportExclusiveScissorStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineViewportExclusiveScissorStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code exclusiveScissorCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer getExclusiveScissorCount(int[] dst) { gather(VkPipelineViewportExclusiveScissorStateCreateInfoNV.EXCLUSIVESCISSORCOUNT, dst); return this; }
+        /** Copies the {@code exclusiveScissorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer getExclusiveScissorCount(IntBuffer dst) { gather(VkPipelineViewportExclusiveScissorStateCreateInfoNV.EXCLUSIVESCISSORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineViewportExclusiveScissorStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineViewportExclusiveScissorStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code exclusiveScissorCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer putExclusiveScissorCount(int[] src) { scatter(VkPipelineViewportExclusiveScissorStateCreateInfoNV.EXCLUSIVESCISSORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code exclusiveScissorCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportExclusiveScissorStateCreateInfoNV.Buffer putExclusiveScissorCount(IntBuffer src) { scatter(VkPipelineViewportExclusiveScissorStateCreateInfoNV.EXCLUSIVESCISSORCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -271,6 +271,24 @@ public class VkPipelineViewportShadingRateImageStateCreateInfoNV extends Struct
         return wrap(VkPipelineViewportShadingRateImageStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineViewportShadingRateImageStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportShadingRateImageStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportShadingRateImageStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineViewportShadingRateImageStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportShadingRateImageStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportShadingRateImageStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -309,6 +327,26 @@ public class VkPipelineViewportShadingRateImageStateCreateInfoNV extends Struct
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -399,6 +437,24 @@ public class VkPipelineViewportShadingRateImageStateCreateInfoNV extends Struct
         /** Sets the address of the specified {@link VkShadingRatePaletteNV.Buffer} to the {@code pShadingRatePalettes} field. */
         public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer pShadingRatePalettes(@Nullable @NativeType("VkShadingRatePaletteNV const *") VkShadingRatePaletteNV.Buffer value) { VkPipelineViewportShadingRateImageStateCreateInfoNV.npShadingRatePalettes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineViewportShadingRateImageStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineViewportShadingRateImageStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer getViewportCount(int[] dst) { gather(VkPipelineViewportShadingRateImageStateCreateInfoNV.VIEWPORTCOUNT, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer getViewportCount(IntBuffer dst) { gather(VkPipelineViewportShadingRateImageStateCreateInfoNV.VIEWPORTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineViewportShadingRateImageStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineViewportShadingRateImageStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code viewportCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer putViewportCount(int[] src) { scatter(VkPipelineViewportShadingRateImageStateCreateInfoNV.VIEWPORTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code viewportCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportShadingRateImageStateCreateInfoNV.Buffer putViewportCount(IntBuffer src) { scatter(VkPipelineViewportShadingRateImageStateCreateInfoNV.VIEWPORTCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -298,6 +298,24 @@ public class VkPipelineViewportStateCreateInfo extends Struct implements NativeR
         return wrap(VkPipelineViewportStateCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineViewportStateCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportStateCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportStateCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineViewportStateCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportStateCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportStateCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineViewportStateCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -336,6 +354,26 @@ public class VkPipelineViewportStateCreateInfo extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineViewportStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportStateCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineViewportStateCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportStateCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -445,6 +483,40 @@ public class VkPipelineViewportStateCreateInfo extends Struct implements NativeR
         /** Sets the address of the specified {@link VkRect2D.Buffer} to the {@code pScissors} field. */
         public VkPipelineViewportStateCreateInfo.Buffer pScissors(@Nullable @NativeType("VkRect2D const *") VkRect2D.Buffer value) { VkPipelineViewportStateCreateInfo.npScissors(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportStateCreateInfo.Buffer getSType(int[] dst) { gather(VkPipelineViewportStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportStateCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkPipelineViewportStateCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportStateCreateInfo.Buffer getFlags(int[] dst) { gather(VkPipelineViewportStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportStateCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkPipelineViewportStateCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportStateCreateInfo.Buffer getViewportCount(int[] dst) { gather(VkPipelineViewportStateCreateInfo.VIEWPORTCOUNT, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportStateCreateInfo.Buffer getViewportCount(IntBuffer dst) { gather(VkPipelineViewportStateCreateInfo.VIEWPORTCOUNT, dst); return this; }
+        /** Copies the {@code scissorCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportStateCreateInfo.Buffer getScissorCount(int[] dst) { gather(VkPipelineViewportStateCreateInfo.SCISSORCOUNT, dst); return this; }
+        /** Copies the {@code scissorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportStateCreateInfo.Buffer getScissorCount(IntBuffer dst) { gather(VkPipelineViewportStateCreateInfo.SCISSORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putSType(int[] src) { scatter(VkPipelineViewportStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkPipelineViewportStateCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putFlags(int[] src) { scatter(VkPipelineViewportStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkPipelineViewportStateCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code viewportCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putViewportCount(int[] src) { scatter(VkPipelineViewportStateCreateInfo.VIEWPORTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code viewportCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putViewportCount(IntBuffer src) { scatter(VkPipelineViewportStateCreateInfo.VIEWPORTCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code scissorCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putScissorCount(int[] src) { scatter(VkPipelineViewportStateCreateInfo.SCISSORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code scissorCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportStateCreateInfo.Buffer putScissorCount(IntBuffer src) { scatter(VkPipelineViewportStateCreateInfo.SCISSORCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
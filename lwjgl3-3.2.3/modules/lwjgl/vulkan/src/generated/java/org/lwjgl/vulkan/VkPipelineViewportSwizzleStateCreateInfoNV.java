@@ -262,6 +262,24 @@ public class VkPipelineViewportSwizzleStateCreateInfoNV extends Struct implement
         return wrap(VkPipelineViewportSwizzleStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineViewportSwizzleStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportSwizzleStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportSwizzleStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineViewportSwizzleStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportSwizzleStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportSwizzleStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineViewportSwizzleStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -300,6 +318,26 @@ public class VkPipelineViewportSwizzleStateCreateInfoNV extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineViewportSwizzleStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportSwizzleStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineViewportSwizzleStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportSwizzleStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -408,6 +446,28 @@ public class VkPipelineViewportSwizzleStateCreateInfoNV extends Struct implement
         /** Sets the address of the specified {@link VkViewportSwizzleNV.Buffer} to the {@code pViewportSwizzles} field. */
         public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer pViewportSwizzles(@NativeType("VkViewportSwizzleNV const *") VkViewportSwizzleNV.Buffer value) { VkPipelineViewportSwizzleStateCreateInfoNV.npViewportSwizzles(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineViewportSwizzleStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineViewportSwizzleStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer getFlags(int[] dst) { gather(VkPipelineViewportSwizzleStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer getFlags(IntBuffer dst) { gather(VkPipelineViewportSwizzleStateCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer getViewportCount(int[] dst) { gather(VkPipelineViewportSwizzleStateCreateInfoNV.VIEWPORTCOUNT, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer getViewportCount(IntBuffer dst) { gather(VkPipelineViewportSwizzleStateCreateInfoNV.VIEWPORTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineViewportSwizzleStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineViewportSwizzleStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer putFlags(int[] src) { scatter(VkPipelineViewportSwizzleStateCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkPipelineViewportSwizzleStateCreateInfoNV.Buffer putFlags(IntBuffer src) { scatter(VkPipelineViewportSwizzleStateCreateInfoNV.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
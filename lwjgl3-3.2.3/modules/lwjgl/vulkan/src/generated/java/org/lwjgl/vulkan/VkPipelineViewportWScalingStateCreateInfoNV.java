@@ -258,6 +258,24 @@ public class VkPipelineViewportWScalingStateCreateInfoNV extends Struct implemen
         return wrap(VkPipelineViewportWScalingStateCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPipelineViewportWScalingStateCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportWScalingStateCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportWScalingStateCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPipelineViewportWScalingStateCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPipelineViewportWScalingStateCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkPipelineViewportWScalingStateCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPipelineViewportWScalingStateCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -296,6 +314,26 @@ public class VkPipelineViewportWScalingStateCreateInfoNV extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPipelineViewportWScalingStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportWScalingStateCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPipelineViewportWScalingStateCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPipelineViewportWScalingStateCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -386,6 +424,24 @@ public class VkPipelineViewportWScalingStateCreateInfoNV extends Struct implemen
         /** Sets the address of the specified {@link VkViewportWScalingNV.Buffer} to the {@code pViewportWScalings} field. */
         public VkPipelineViewportWScalingStateCreateInfoNV.Buffer pViewportWScalings(@Nullable @NativeType("VkViewportWScalingNV const *") VkViewportWScalingNV.Buffer value) { VkPipelineViewportWScalingStateCreateInfoNV.npViewportWScalings(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer getSType(int[] dst) { gather(VkPipelineViewportWScalingStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkPipelineViewportWScalingStateCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified array. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer getViewportCount(int[] dst) { gather(VkPipelineViewportWScalingStateCreateInfoNV.VIEWPORTCOUNT, dst); return this; }
+        /** Copies the {@code viewportCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer getViewportCount(IntBuffer dst) { gather(VkPipelineViewportWScalingStateCreateInfoNV.VIEWPORTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer putSType(int[] src) { scatter(VkPipelineViewportWScalingStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkPipelineViewportWScalingStateCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code viewportCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer putViewportCount(int[] src) { scatter(VkPipelineViewportWScalingStateCreateInfoNV.VIEWPORTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code viewportCount} field of the structs between the current position and limit. */
+        public VkPipelineViewportWScalingStateCreateInfoNV.Buffer putViewportCount(IntBuffer src) { scatter(VkPipelineViewportWScalingStateCreateInfoNV.VIEWPORTCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -314,6 +314,24 @@ public class VkPresentInfoKHR extends Struct implements NativeResource {
         return wrap(VkPresentInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPresentInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkPresentInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPresentInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkPresentInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPresentInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -352,6 +370,26 @@ public class VkPresentInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPresentInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPresentInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -493,6 +531,28 @@ public class VkPresentInfoKHR extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pResults} field. */
         public VkPresentInfoKHR.Buffer pResults(@Nullable @NativeType("VkResult *") IntBuffer value) { VkPresentInfoKHR.npResults(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPresentInfoKHR.Buffer getSType(int[] dst) { gather(VkPresentInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkPresentInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkPresentInfoKHR.Buffer getWaitSemaphoreCount(int[] dst) { gather(VkPresentInfoKHR.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentInfoKHR.Buffer getWaitSemaphoreCount(IntBuffer dst) { gather(VkPresentInfoKHR.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified array. */
+        public VkPresentInfoKHR.Buffer getSwapchainCount(int[] dst) { gather(VkPresentInfoKHR.SWAPCHAINCOUNT, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentInfoKHR.Buffer getSwapchainCount(IntBuffer dst) { gather(VkPresentInfoKHR.SWAPCHAINCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPresentInfoKHR.Buffer putSType(int[] src) { scatter(VkPresentInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPresentInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkPresentInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code swapchainCount} field of the structs between the current position and limit. */
+        public VkPresentInfoKHR.Buffer putSwapchainCount(int[] src) { scatter(VkPresentInfoKHR.SWAPCHAINCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code swapchainCount} field of the structs between the current position and limit. */
+        public VkPresentInfoKHR.Buffer putSwapchainCount(IntBuffer src) { scatter(VkPresentInfoKHR.SWAPCHAINCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -221,6 +221,24 @@ public class VkPresentRegionKHR extends Struct implements NativeResource {
         return wrap(VkPresentRegionKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPresentRegionKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentRegionKHR malloc(MemoryArena arena) {
+        return wrap(VkPresentRegionKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPresentRegionKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentRegionKHR calloc(MemoryArena arena) {
+        return wrap(VkPresentRegionKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPresentRegionKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -259,6 +277,26 @@ public class VkPresentRegionKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPresentRegionKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentRegionKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPresentRegionKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentRegionKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #rectangleCount}. */
@@ -322,6 +360,16 @@ public class VkPresentRegionKHR extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkRectLayerKHR.Buffer} to the {@code pRectangles} field. */
         public VkPresentRegionKHR.Buffer pRectangles(@Nullable @NativeType("VkRectLayerKHR const *") VkRectLayerKHR.Buffer value) { VkPresentRegionKHR.npRectangles(address(), value); return this; }
 
+        /** Copies the {@code rectangleCount} field of the structs between the current position and limit to the specified array. */
+        public VkPresentRegionKHR.Buffer getRectangleCount(int[] dst) { gather(VkPresentRegionKHR.RECTANGLECOUNT, dst); return this; }
+        /** Copies the {@code rectangleCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentRegionKHR.Buffer getRectangleCount(IntBuffer dst) { gather(VkPresentRegionKHR.RECTANGLECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code rectangleCount} field of the structs between the current position and limit. */
+        public VkPresentRegionKHR.Buffer putRectangleCount(int[] src) { scatter(VkPresentRegionKHR.RECTANGLECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code rectangleCount} field of the structs between the current position and limit. */
+        public VkPresentRegionKHR.Buffer putRectangleCount(IntBuffer src) { scatter(VkPresentRegionKHR.RECTANGLECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
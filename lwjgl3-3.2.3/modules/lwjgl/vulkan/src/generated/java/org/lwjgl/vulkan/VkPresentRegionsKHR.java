@@ -253,6 +253,24 @@ public class VkPresentRegionsKHR extends Struct implements NativeResource {
         return wrap(VkPresentRegionsKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPresentRegionsKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentRegionsKHR malloc(MemoryArena arena) {
+        return wrap(VkPresentRegionsKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPresentRegionsKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentRegionsKHR calloc(MemoryArena arena) {
+        return wrap(VkPresentRegionsKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPresentRegionsKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkPresentRegionsKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPresentRegionsKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentRegionsKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPresentRegionsKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentRegionsKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -372,6 +410,24 @@ public class VkPresentRegionsKHR extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkPresentRegionKHR.Buffer} to the {@code pRegions} field. */
         public VkPresentRegionsKHR.Buffer pRegions(@Nullable @NativeType("VkPresentRegionKHR const *") VkPresentRegionKHR.Buffer value) { VkPresentRegionsKHR.npRegions(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPresentRegionsKHR.Buffer getSType(int[] dst) { gather(VkPresentRegionsKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentRegionsKHR.Buffer getSType(IntBuffer dst) { gather(VkPresentRegionsKHR.STYPE, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified array. */
+        public VkPresentRegionsKHR.Buffer getSwapchainCount(int[] dst) { gather(VkPresentRegionsKHR.SWAPCHAINCOUNT, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentRegionsKHR.Buffer getSwapchainCount(IntBuffer dst) { gather(VkPresentRegionsKHR.SWAPCHAINCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPresentRegionsKHR.Buffer putSType(int[] src) { scatter(VkPresentRegionsKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPresentRegionsKHR.Buffer putSType(IntBuffer src) { scatter(VkPresentRegionsKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code swapchainCount} field of the structs between the current position and limit. */
+        public VkPresentRegionsKHR.Buffer putSwapchainCount(int[] src) { scatter(VkPresentRegionsKHR.SWAPCHAINCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code swapchainCount} field of the structs between the current position and limit. */
+        public VkPresentRegionsKHR.Buffer putSwapchainCount(IntBuffer src) { scatter(VkPresentRegionsKHR.SWAPCHAINCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
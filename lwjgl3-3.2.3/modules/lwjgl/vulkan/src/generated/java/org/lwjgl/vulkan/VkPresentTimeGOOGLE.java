@@ -210,6 +210,24 @@ public class VkPresentTimeGOOGLE extends Struct implements NativeResource {
         return wrap(VkPresentTimeGOOGLE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPresentTimeGOOGLE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentTimeGOOGLE malloc(MemoryArena arena) {
+        return wrap(VkPresentTimeGOOGLE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPresentTimeGOOGLE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentTimeGOOGLE calloc(MemoryArena arena) {
+        return wrap(VkPresentTimeGOOGLE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPresentTimeGOOGLE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -248,6 +266,26 @@ public class VkPresentTimeGOOGLE extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPresentTimeGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentTimeGOOGLE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPresentTimeGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentTimeGOOGLE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #presentID}. */
@@ -310,6 +348,24 @@ public class VkPresentTimeGOOGLE extends Struct implements NativeResource {
         /** Sets the specified value to the {@code desiredPresentTime} field. */
         public VkPresentTimeGOOGLE.Buffer desiredPresentTime(@NativeType("uint64_t") long value) { VkPresentTimeGOOGLE.ndesiredPresentTime(address(), value); return this; }
 
+        /** Copies the {@code presentID} field of the structs between the current position and limit to the specified array. */
+        public VkPresentTimeGOOGLE.Buffer getPresentID(int[] dst) { gather(VkPresentTimeGOOGLE.PRESENTID, dst); return this; }
+        /** Copies the {@code presentID} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentTimeGOOGLE.Buffer getPresentID(IntBuffer dst) { gather(VkPresentTimeGOOGLE.PRESENTID, dst); return this; }
+        /** Copies the {@code desiredPresentTime} field of the structs between the current position and limit to the specified array. */
+        public VkPresentTimeGOOGLE.Buffer getDesiredPresentTime(long[] dst) { gather(VkPresentTimeGOOGLE.DESIREDPRESENTTIME, dst); return this; }
+        /** Copies the {@code desiredPresentTime} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentTimeGOOGLE.Buffer getDesiredPresentTime(LongBuffer dst) { gather(VkPresentTimeGOOGLE.DESIREDPRESENTTIME, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code presentID} field of the structs between the current position and limit. */
+        public VkPresentTimeGOOGLE.Buffer putPresentID(int[] src) { scatter(VkPresentTimeGOOGLE.PRESENTID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code presentID} field of the structs between the current position and limit. */
+        public VkPresentTimeGOOGLE.Buffer putPresentID(IntBuffer src) { scatter(VkPresentTimeGOOGLE.PRESENTID, src); return this; }
+        /** Copies the values in the specified array to the {@code desiredPresentTime} field of the structs between the current position and limit. */
+        public VkPresentTimeGOOGLE.Buffer putDesiredPresentTime(long[] src) { scatter(VkPresentTimeGOOGLE.DESIREDPRESENTTIME, src); return this; }
+        /** Copies the values in the specified buffer to the {@code desiredPresentTime} field of the structs between the current position and limit. */
+        public VkPresentTimeGOOGLE.Buffer putDesiredPresentTime(LongBuffer src) { scatter(VkPresentTimeGOOGLE.DESIREDPRESENTTIME, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class VkPresentTimesInfoGOOGLE extends Struct implements NativeResource {
         return wrap(VkPresentTimesInfoGOOGLE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPresentTimesInfoGOOGLE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentTimesInfoGOOGLE malloc(MemoryArena arena) {
+        return wrap(VkPresentTimesInfoGOOGLE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPresentTimesInfoGOOGLE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPresentTimesInfoGOOGLE calloc(MemoryArena arena) {
+        return wrap(VkPresentTimesInfoGOOGLE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPresentTimesInfoGOOGLE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkPresentTimesInfoGOOGLE extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPresentTimesInfoGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentTimesInfoGOOGLE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPresentTimesInfoGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPresentTimesInfoGOOGLE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -372,6 +410,24 @@ public class VkPresentTimesInfoGOOGLE extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkPresentTimeGOOGLE.Buffer} to the {@code pTimes} field. */
         public VkPresentTimesInfoGOOGLE.Buffer pTimes(@Nullable @NativeType("VkPresentTimeGOOGLE const *") VkPresentTimeGOOGLE.Buffer value) { VkPresentTimesInfoGOOGLE.npTimes(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkPresentTimesInfoGOOGLE.Buffer getSType(int[] dst) { gather(VkPresentTimesInfoGOOGLE.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentTimesInfoGOOGLE.Buffer getSType(IntBuffer dst) { gather(VkPresentTimesInfoGOOGLE.STYPE, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified array. */
+        public VkPresentTimesInfoGOOGLE.Buffer getSwapchainCount(int[] dst) { gather(VkPresentTimesInfoGOOGLE.SWAPCHAINCOUNT, dst); return this; }
+        /** Copies the {@code swapchainCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkPresentTimesInfoGOOGLE.Buffer getSwapchainCount(IntBuffer dst) { gather(VkPresentTimesInfoGOOGLE.SWAPCHAINCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkPresentTimesInfoGOOGLE.Buffer putSType(int[] src) { scatter(VkPresentTimesInfoGOOGLE.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkPresentTimesInfoGOOGLE.Buffer putSType(IntBuffer src) { scatter(VkPresentTimesInfoGOOGLE.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code swapchainCount} field of the structs between the current position and limit. */
+        public VkPresentTimesInfoGOOGLE.Buffer putSwapchainCount(int[] src) { scatter(VkPresentTimesInfoGOOGLE.SWAPCHAINCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code swapchainCount} field of the structs between the current position and limit. */
+        public VkPresentTimesInfoGOOGLE.Buffer putSwapchainCount(IntBuffer src) { scatter(VkPresentTimesInfoGOOGLE.SWAPCHAINCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
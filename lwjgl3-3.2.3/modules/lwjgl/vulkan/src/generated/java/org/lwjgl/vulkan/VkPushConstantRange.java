@@ -243,6 +243,24 @@ public class VkPushConstantRange extends Struct implements NativeResource {
         return wrap(VkPushConstantRange.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkPushConstantRange} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPushConstantRange malloc(MemoryArena arena) {
+        return wrap(VkPushConstantRange.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkPushConstantRange} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkPushConstantRange calloc(MemoryArena arena) {
+        return wrap(VkPushConstantRange.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkPushConstantRange.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class VkPushConstantRange extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkPushConstantRange.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPushConstantRange.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkPushConstantRange.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkPushConstantRange.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #stageFlags}. */
@@ -352,6 +390,32 @@ public class VkPushConstantRange extends Struct implements NativeResource {
         /** Sets the specified value to the {@code size} field. */
         public VkPushConstantRange.Buffer size(@NativeType("uint32_t") int value) { VkPushConstantRange.nsize(address(), value); return this; }
 
+        /** Copies the {@code stageFlags} field of the structs between the current position and limit to the specified array. */
+        public VkPushConstantRange.Buffer getStageFlags(int[] dst) { gather(VkPushConstantRange.STAGEFLAGS, dst); return this; }
+        /** Copies the {@code stageFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkPushConstantRange.Buffer getStageFlags(IntBuffer dst) { gather(VkPushConstantRange.STAGEFLAGS, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkPushConstantRange.Buffer getOffset(int[] dst) { gather(VkPushConstantRange.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkPushConstantRange.Buffer getOffset(IntBuffer dst) { gather(VkPushConstantRange.OFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkPushConstantRange.Buffer getSize(int[] dst) { gather(VkPushConstantRange.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkPushConstantRange.Buffer getSize(IntBuffer dst) { gather(VkPushConstantRange.SIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code stageFlags} field of the structs between the current position and limit. */
+        public VkPushConstantRange.Buffer putStageFlags(int[] src) { scatter(VkPushConstantRange.STAGEFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stageFlags} field of the structs between the current position and limit. */
+        public VkPushConstantRange.Buffer putStageFlags(IntBuffer src) { scatter(VkPushConstantRange.STAGEFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkPushConstantRange.Buffer putOffset(int[] src) { scatter(VkPushConstantRange.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkPushConstantRange.Buffer putOffset(IntBuffer src) { scatter(VkPushConstantRange.OFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public VkPushConstantRange.Buffer putSize(int[] src) { scatter(VkPushConstantRange.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public VkPushConstantRange.Buffer putSize(IntBuffer src) { scatter(VkPushConstantRange.SIZE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -283,6 +283,24 @@ public class VkQueryPoolCreateInfo extends Struct implements NativeResource {
         return wrap(VkQueryPoolCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkQueryPoolCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkQueryPoolCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkQueryPoolCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkQueryPoolCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkQueryPoolCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -321,6 +339,26 @@ public class VkQueryPoolCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkQueryPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkQueryPoolCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -419,6 +457,48 @@ public class VkQueryPoolCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pipelineStatistics} field. */
         public VkQueryPoolCreateInfo.Buffer pipelineStatistics(@NativeType("VkQueryPipelineStatisticFlags") int value) { VkQueryPoolCreateInfo.npipelineStatistics(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfo.Buffer getSType(int[] dst) { gather(VkQueryPoolCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkQueryPoolCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfo.Buffer getFlags(int[] dst) { gather(VkQueryPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkQueryPoolCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code queryType} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfo.Buffer getQueryType(int[] dst) { gather(VkQueryPoolCreateInfo.QUERYTYPE, dst); return this; }
+        /** Copies the {@code queryType} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfo.Buffer getQueryType(IntBuffer dst) { gather(VkQueryPoolCreateInfo.QUERYTYPE, dst); return this; }
+        /** Copies the {@code queryCount} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfo.Buffer getQueryCount(int[] dst) { gather(VkQueryPoolCreateInfo.QUERYCOUNT, dst); return this; }
+        /** Copies the {@code queryCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfo.Buffer getQueryCount(IntBuffer dst) { gather(VkQueryPoolCreateInfo.QUERYCOUNT, dst); return this; }
+        /** Copies the {@code pipelineStatistics} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfo.Buffer getPipelineStatistics(int[] dst) { gather(VkQueryPoolCreateInfo.PIPELINESTATISTICS, dst); return this; }
+        /** Copies the {@code pipelineStatistics} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfo.Buffer getPipelineStatistics(IntBuffer dst) { gather(VkQueryPoolCreateInfo.PIPELINESTATISTICS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putSType(int[] src) { scatter(VkQueryPoolCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkQueryPoolCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putFlags(int[] src) { scatter(VkQueryPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkQueryPoolCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code queryType} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putQueryType(int[] src) { scatter(VkQueryPoolCreateInfo.QUERYTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queryType} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putQueryType(IntBuffer src) { scatter(VkQueryPoolCreateInfo.QUERYTYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code queryCount} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putQueryCount(int[] src) { scatter(VkQueryPoolCreateInfo.QUERYCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code queryCount} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putQueryCount(IntBuffer src) { scatter(VkQueryPoolCreateInfo.QUERYCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineStatistics} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putPipelineStatistics(int[] src) { scatter(VkQueryPoolCreateInfo.PIPELINESTATISTICS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineStatistics} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfo.Buffer putPipelineStatistics(IntBuffer src) { scatter(VkQueryPoolCreateInfo.PIPELINESTATISTICS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -230,6 +230,24 @@ public class VkQueryPoolCreateInfoINTEL extends Struct implements NativeResource
         return wrap(VkQueryPoolCreateInfoINTEL.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkQueryPoolCreateInfoINTEL} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfoINTEL malloc(MemoryArena arena) {
+        return wrap(VkQueryPoolCreateInfoINTEL.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkQueryPoolCreateInfoINTEL} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfoINTEL calloc(MemoryArena arena) {
+        return wrap(VkQueryPoolCreateInfoINTEL.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkQueryPoolCreateInfoINTEL.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -268,6 +286,26 @@ public class VkQueryPoolCreateInfoINTEL extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkQueryPoolCreateInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfoINTEL.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkQueryPoolCreateInfoINTEL.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueryPoolCreateInfoINTEL.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -339,6 +377,24 @@ public class VkQueryPoolCreateInfoINTEL extends Struct implements NativeResource
         /** Sets the specified value to the {@code performanceCountersSampling} field. */
         public VkQueryPoolCreateInfoINTEL.Buffer performanceCountersSampling(@NativeType("VkQueryPoolSamplingModeINTEL") int value) { VkQueryPoolCreateInfoINTEL.nperformanceCountersSampling(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfoINTEL.Buffer getSType(int[] dst) { gather(VkQueryPoolCreateInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfoINTEL.Buffer getSType(IntBuffer dst) { gather(VkQueryPoolCreateInfoINTEL.STYPE, dst); return this; }
+        /** Copies the {@code performanceCountersSampling} field of the structs between the current position and limit to the specified array. */
+        public VkQueryPoolCreateInfoINTEL.Buffer getPerformanceCountersSampling(int[] dst) { gather(VkQueryPoolCreateInfoINTEL.PERFORMANCECOUNTERSSAMPLING, dst); return this; }
+        /** Copies the {@code performanceCountersSampling} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueryPoolCreateInfoINTEL.Buffer getPerformanceCountersSampling(IntBuffer dst) { gather(VkQueryPoolCreateInfoINTEL.PERFORMANCECOUNTERSSAMPLING, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfoINTEL.Buffer putSType(int[] src) { scatter(VkQueryPoolCreateInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfoINTEL.Buffer putSType(IntBuffer src) { scatter(VkQueryPoolCreateInfoINTEL.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code performanceCountersSampling} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfoINTEL.Buffer putPerformanceCountersSampling(int[] src) { scatter(VkQueryPoolCreateInfoINTEL.PERFORMANCECOUNTERSSAMPLING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code performanceCountersSampling} field of the structs between the current position and limit. */
+        public VkQueryPoolCreateInfoINTEL.Buffer putPerformanceCountersSampling(IntBuffer src) { scatter(VkQueryPoolCreateInfoINTEL.PERFORMANCECOUNTERSSAMPLING, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,24 @@ public class VkQueueFamilyCheckpointPropertiesNV extends Struct implements Nativ
         return wrap(VkQueueFamilyCheckpointPropertiesNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkQueueFamilyCheckpointPropertiesNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueueFamilyCheckpointPropertiesNV malloc(MemoryArena arena) {
+        return wrap(VkQueueFamilyCheckpointPropertiesNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkQueueFamilyCheckpointPropertiesNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueueFamilyCheckpointPropertiesNV calloc(MemoryArena arena) {
+        return wrap(VkQueueFamilyCheckpointPropertiesNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkQueueFamilyCheckpointPropertiesNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkQueueFamilyCheckpointPropertiesNV extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkQueueFamilyCheckpointPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueueFamilyCheckpointPropertiesNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkQueueFamilyCheckpointPropertiesNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueueFamilyCheckpointPropertiesNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -329,6 +367,20 @@ public class VkQueueFamilyCheckpointPropertiesNV extends Struct implements Nativ
         /** Sets the specified value to the {@code pNext} field. */
         public VkQueueFamilyCheckpointPropertiesNV.Buffer pNext(@NativeType("void *") long value) { VkQueueFamilyCheckpointPropertiesNV.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkQueueFamilyCheckpointPropertiesNV.Buffer getSType(int[] dst) { gather(VkQueueFamilyCheckpointPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueueFamilyCheckpointPropertiesNV.Buffer getSType(IntBuffer dst) { gather(VkQueueFamilyCheckpointPropertiesNV.STYPE, dst); return this; }
+        /** Copies the {@code checkpointExecutionStageMask} field of the structs between the current position and limit to the specified array. */
+        public VkQueueFamilyCheckpointPropertiesNV.Buffer getCheckpointExecutionStageMask(int[] dst) { gather(VkQueueFamilyCheckpointPropertiesNV.CHECKPOINTEXECUTIONSTAGEMASK, dst); return this; }
+        /** Copies the {@code checkpointExecutionStageMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueueFamilyCheckpointPropertiesNV.Buffer getCheckpointExecutionStageMask(IntBuffer dst) { gather(VkQueueFamilyCheckpointPropertiesNV.CHECKPOINTEXECUTIONSTAGEMASK, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueueFamilyCheckpointPropertiesNV.Buffer putSType(int[] src) { scatter(VkQueueFamilyCheckpointPropertiesNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueueFamilyCheckpointPropertiesNV.Buffer putSType(IntBuffer src) { scatter(VkQueueFamilyCheckpointPropertiesNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkQueueFamilyProperties extends Struct implements NativeResource {
         return wrap(VkQueueFamilyProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkQueueFamilyProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties malloc(MemoryArena arena) {
+        return wrap(VkQueueFamilyProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkQueueFamilyProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties calloc(MemoryArena arena) {
+        return wrap(VkQueueFamilyProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkQueueFamilyProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkQueueFamilyProperties extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkQueueFamilyProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkQueueFamilyProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #queueFlags}. */
@@ -332,6 +370,19 @@ public class VkQueueFamilyProperties extends Struct implements NativeResource {
         /** Returns a {@link VkExtent3D} view of the {@code minImageTransferGranularity} field. */
         public VkExtent3D minImageTransferGranularity() { return VkQueueFamilyProperties.nminImageTransferGranularity(address()); }
 
+        /** Copies the {@code queueFlags} field of the structs between the current position and limit to the specified array. */
+        public VkQueueFamilyProperties.Buffer getQueueFlags(int[] dst) { gather(VkQueueFamilyProperties.QUEUEFLAGS, dst); return this; }
+        /** Copies the {@code queueFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueueFamilyProperties.Buffer getQueueFlags(IntBuffer dst) { gather(VkQueueFamilyProperties.QUEUEFLAGS, dst); return this; }
+        /** Copies the {@code queueCount} field of the structs between the current position and limit to the specified array. */
+        public VkQueueFamilyProperties.Buffer getQueueCount(int[] dst) { gather(VkQueueFamilyProperties.QUEUECOUNT, dst); return this; }
+        /** Copies the {@code queueCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueueFamilyProperties.Buffer getQueueCount(IntBuffer dst) { gather(VkQueueFamilyProperties.QUEUECOUNT, dst); return this; }
+        /** Copies the {@code timestampValidBits} field of the structs between the current position and limit to the specified array. */
+        public VkQueueFamilyProperties.Buffer getTimestampValidBits(int[] dst) { gather(VkQueueFamilyProperties.TIMESTAMPVALIDBITS, dst); return this; }
+        /** Copies the {@code timestampValidBits} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueueFamilyProperties.Buffer getTimestampValidBits(IntBuffer dst) { gather(VkQueueFamilyProperties.TIMESTAMPVALIDBITS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkQueueFamilyProperties2 extends Struct implements NativeResource {
         return wrap(VkQueueFamilyProperties2.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkQueueFamilyProperties2} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties2 malloc(MemoryArena arena) {
+        return wrap(VkQueueFamilyProperties2.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkQueueFamilyProperties2} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties2 calloc(MemoryArena arena) {
+        return wrap(VkQueueFamilyProperties2.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkQueueFamilyProperties2.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkQueueFamilyProperties2 extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkQueueFamilyProperties2.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties2.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkQueueFamilyProperties2.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkQueueFamilyProperties2.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -332,6 +370,16 @@ public class VkQueueFamilyProperties2 extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pNext} field. */
         public VkQueueFamilyProperties2.Buffer pNext(@NativeType("void *") long value) { VkQueueFamilyProperties2.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkQueueFamilyProperties2.Buffer getSType(int[] dst) { gather(VkQueueFamilyProperties2.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkQueueFamilyProperties2.Buffer getSType(IntBuffer dst) { gather(VkQueueFamilyProperties2.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueueFamilyProperties2.Buffer putSType(int[] src) { scatter(VkQueueFamilyProperties2.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkQueueFamilyProperties2.Buffer putSType(IntBuffer src) { scatter(VkQueueFamilyProperties2.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -347,6 +347,24 @@ public class VkRayTracingPipelineCreateInfoNV extends Struct implements NativeRe
         return wrap(VkRayTracingPipelineCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRayTracingPipelineCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRayTracingPipelineCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkRayTracingPipelineCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRayTracingPipelineCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRayTracingPipelineCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkRayTracingPipelineCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRayTracingPipelineCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -385,6 +403,26 @@ public class VkRayTracingPipelineCreateInfoNV extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRayTracingPipelineCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRayTracingPipelineCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRayTracingPipelineCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRayTracingPipelineCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -549,6 +587,64 @@ public class VkRayTracingPipelineCreateInfoNV extends Struct implements NativeRe
         /** Sets the specified value to the {@code basePipelineIndex} field. */
         public VkRayTracingPipelineCreateInfoNV.Buffer basePipelineIndex(@NativeType("int32_t") int value) { VkRayTracingPipelineCreateInfoNV.nbasePipelineIndex(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getSType(int[] dst) { gather(VkRayTracingPipelineCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getFlags(int[] dst) { gather(VkRayTracingPipelineCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getFlags(IntBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.FLAGS, dst); return this; }
+        /** Copies the {@code stageCount} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getStageCount(int[] dst) { gather(VkRayTracingPipelineCreateInfoNV.STAGECOUNT, dst); return this; }
+        /** Copies the {@code stageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getStageCount(IntBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.STAGECOUNT, dst); return this; }
+        /** Copies the {@code groupCount} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getGroupCount(int[] dst) { gather(VkRayTracingPipelineCreateInfoNV.GROUPCOUNT, dst); return this; }
+        /** Copies the {@code groupCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getGroupCount(IntBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.GROUPCOUNT, dst); return this; }
+        /** Copies the {@code maxRecursionDepth} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getMaxRecursionDepth(int[] dst) { gather(VkRayTracingPipelineCreateInfoNV.MAXRECURSIONDEPTH, dst); return this; }
+        /** Copies the {@code maxRecursionDepth} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getMaxRecursionDepth(IntBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.MAXRECURSIONDEPTH, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getLayout(long[] dst) { gather(VkRayTracingPipelineCreateInfoNV.LAYOUT, dst); return this; }
+        /** Copies the {@code layout} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getLayout(LongBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.LAYOUT, dst); return this; }
+        /** Copies the {@code basePipelineHandle} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getBasePipelineHandle(long[] dst) { gather(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEHANDLE, dst); return this; }
+        /** Copies the {@code basePipelineHandle} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getBasePipelineHandle(LongBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEHANDLE, dst); return this; }
+        /** Copies the {@code basePipelineIndex} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getBasePipelineIndex(int[] dst) { gather(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEINDEX, dst); return this; }
+        /** Copies the {@code basePipelineIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer getBasePipelineIndex(IntBuffer dst) { gather(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putSType(int[] src) { scatter(VkRayTracingPipelineCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkRayTracingPipelineCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putFlags(int[] src) { scatter(VkRayTracingPipelineCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putFlags(IntBuffer src) { scatter(VkRayTracingPipelineCreateInfoNV.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code maxRecursionDepth} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putMaxRecursionDepth(int[] src) { scatter(VkRayTracingPipelineCreateInfoNV.MAXRECURSIONDEPTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxRecursionDepth} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putMaxRecursionDepth(IntBuffer src) { scatter(VkRayTracingPipelineCreateInfoNV.MAXRECURSIONDEPTH, src); return this; }
+        /** Copies the values in the specified array to the {@code layout} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putLayout(long[] src) { scatter(VkRayTracingPipelineCreateInfoNV.LAYOUT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layout} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putLayout(LongBuffer src) { scatter(VkRayTracingPipelineCreateInfoNV.LAYOUT, src); return this; }
+        /** Copies the values in the specified array to the {@code basePipelineHandle} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putBasePipelineHandle(long[] src) { scatter(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEHANDLE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code basePipelineHandle} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putBasePipelineHandle(LongBuffer src) { scatter(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEHANDLE, src); return this; }
+        /** Copies the values in the specified array to the {@code basePipelineIndex} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putBasePipelineIndex(int[] src) { scatter(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code basePipelineIndex} field of the structs between the current position and limit. */
+        public VkRayTracingPipelineCreateInfoNV.Buffer putBasePipelineIndex(IntBuffer src) { scatter(VkRayTracingPipelineCreateInfoNV.BASEPIPELINEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
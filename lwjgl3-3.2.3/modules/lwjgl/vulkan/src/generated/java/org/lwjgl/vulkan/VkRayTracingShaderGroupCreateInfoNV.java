@@ -293,6 +293,24 @@ public class VkRayTracingShaderGroupCreateInfoNV extends Struct implements Nativ
         return wrap(VkRayTracingShaderGroupCreateInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRayTracingShaderGroupCreateInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRayTracingShaderGroupCreateInfoNV malloc(MemoryArena arena) {
+        return wrap(VkRayTracingShaderGroupCreateInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRayTracingShaderGroupCreateInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRayTracingShaderGroupCreateInfoNV calloc(MemoryArena arena) {
+        return wrap(VkRayTracingShaderGroupCreateInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRayTracingShaderGroupCreateInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class VkRayTracingShaderGroupCreateInfoNV extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRayTracingShaderGroupCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRayTracingShaderGroupCreateInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRayTracingShaderGroupCreateInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRayTracingShaderGroupCreateInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -438,6 +476,56 @@ public class VkRayTracingShaderGroupCreateInfoNV extends Struct implements Nativ
         /** Sets the specified value to the {@code intersectionShader} field. */
         public VkRayTracingShaderGroupCreateInfoNV.Buffer intersectionShader(@NativeType("uint32_t") int value) { VkRayTracingShaderGroupCreateInfoNV.nintersectionShader(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getSType(int[] dst) { gather(VkRayTracingShaderGroupCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getSType(IntBuffer dst) { gather(VkRayTracingShaderGroupCreateInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getType(int[] dst) { gather(VkRayTracingShaderGroupCreateInfoNV.TYPE, dst); return this; }
+        /** Copies the {@code type} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getType(IntBuffer dst) { gather(VkRayTracingShaderGroupCreateInfoNV.TYPE, dst); return this; }
+        /** Copies the {@code generalShader} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getGeneralShader(int[] dst) { gather(VkRayTracingShaderGroupCreateInfoNV.GENERALSHADER, dst); return this; }
+        /** Copies the {@code generalShader} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getGeneralShader(IntBuffer dst) { gather(VkRayTracingShaderGroupCreateInfoNV.GENERALSHADER, dst); return this; }
+        /** Copies the {@code closestHitShader} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getClosestHitShader(int[] dst) { gather(VkRayTracingShaderGroupCreateInfoNV.CLOSESTHITSHADER, dst); return this; }
+        /** Copies the {@code closestHitShader} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getClosestHitShader(IntBuffer dst) { gather(VkRayTracingShaderGroupCreateInfoNV.CLOSESTHITSHADER, dst); return this; }
+        /** Copies the {@code anyHitShader} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getAnyHitShader(int[] dst) { gather(VkRayTracingShaderGroupCreateInfoNV.ANYHITSHADER, dst); return this; }
+        /** Copies the {@code anyHitShader} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getAnyHitShader(IntBuffer dst) { gather(VkRayTracingShaderGroupCreateInfoNV.ANYHITSHADER, dst); return this; }
+        /** Copies the {@code intersectionShader} field of the structs between the current position and limit to the specified array. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getIntersectionShader(int[] dst) { gather(VkRayTracingShaderGroupCreateInfoNV.INTERSECTIONSHADER, dst); return this; }
+        /** Copies the {@code intersectionShader} field of the structs between the current position and limit to the specified buffer. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer getIntersectionShader(IntBuffer dst) { gather(VkRayTracingShaderGroupCreateInfoNV.INTERSECTIONSHADER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putSType(int[] src) { scatter(VkRayTracingShaderGroupCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putSType(IntBuffer src) { scatter(VkRayTracingShaderGroupCreateInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code type} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putType(int[] src) { scatter(VkRayTracingShaderGroupCreateInfoNV.TYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code type} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putType(IntBuffer src) { scatter(VkRayTracingShaderGroupCreateInfoNV.TYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code generalShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putGeneralShader(int[] src) { scatter(VkRayTracingShaderGroupCreateInfoNV.GENERALSHADER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code generalShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putGeneralShader(IntBuffer src) { scatter(VkRayTracingShaderGroupCreateInfoNV.GENERALSHADER, src); return this; }
+        /** Copies the values in the specified array to the {@code closestHitShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putClosestHitShader(int[] src) { scatter(VkRayTracingShaderGroupCreateInfoNV.CLOSESTHITSHADER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code closestHitShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putClosestHitShader(IntBuffer src) { scatter(VkRayTracingShaderGroupCreateInfoNV.CLOSESTHITSHADER, src); return this; }
+        /** Copies the values in the specified array to the {@code anyHitShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putAnyHitShader(int[] src) { scatter(VkRayTracingShaderGroupCreateInfoNV.ANYHITSHADER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code anyHitShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putAnyHitShader(IntBuffer src) { scatter(VkRayTracingShaderGroupCreateInfoNV.ANYHITSHADER, src); return this; }
+        /** Copies the values in the specified array to the {@code intersectionShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putIntersectionShader(int[] src) { scatter(VkRayTracingShaderGroupCreateInfoNV.INTERSECTIONSHADER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code intersectionShader} field of the structs between the current position and limit. */
+        public VkRayTracingShaderGroupCreateInfoNV.Buffer putIntersectionShader(IntBuffer src) { scatter(VkRayTracingShaderGroupCreateInfoNV.INTERSECTIONSHADER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -237,6 +237,24 @@ public class VkRectLayerKHR extends Struct implements NativeResource {
         return wrap(VkRectLayerKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRectLayerKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRectLayerKHR malloc(MemoryArena arena) {
+        return wrap(VkRectLayerKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRectLayerKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRectLayerKHR calloc(MemoryArena arena) {
+        return wrap(VkRectLayerKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRectLayerKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class VkRectLayerKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRectLayerKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRectLayerKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRectLayerKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRectLayerKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #offset}. */
@@ -348,6 +386,16 @@ public class VkRectLayerKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code layer} field. */
         public VkRectLayerKHR.Buffer layer(@NativeType("uint32_t") int value) { VkRectLayerKHR.nlayer(address(), value); return this; }
 
+        /** Copies the {@code layer} field of the structs between the current position and limit to the specified array. */
+        public VkRectLayerKHR.Buffer getLayer(int[] dst) { gather(VkRectLayerKHR.LAYER, dst); return this; }
+        /** Copies the {@code layer} field of the structs between the current position and limit to the specified buffer. */
+        public VkRectLayerKHR.Buffer getLayer(IntBuffer dst) { gather(VkRectLayerKHR.LAYER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code layer} field of the structs between the current position and limit. */
+        public VkRectLayerKHR.Buffer putLayer(int[] src) { scatter(VkRectLayerKHR.LAYER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code layer} field of the structs between the current position and limit. */
+        public VkRectLayerKHR.Buffer putLayer(IntBuffer src) { scatter(VkRectLayerKHR.LAYER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -174,6 +174,24 @@ public class VkRefreshCycleDurationGOOGLE extends Struct implements NativeResour
         return wrap(VkRefreshCycleDurationGOOGLE.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRefreshCycleDurationGOOGLE} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRefreshCycleDurationGOOGLE malloc(MemoryArena arena) {
+        return wrap(VkRefreshCycleDurationGOOGLE.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRefreshCycleDurationGOOGLE} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRefreshCycleDurationGOOGLE calloc(MemoryArena arena) {
+        return wrap(VkRefreshCycleDurationGOOGLE.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRefreshCycleDurationGOOGLE.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -212,6 +230,26 @@ public class VkRefreshCycleDurationGOOGLE extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRefreshCycleDurationGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRefreshCycleDurationGOOGLE.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRefreshCycleDurationGOOGLE.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRefreshCycleDurationGOOGLE.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #refreshDuration}. */
@@ -259,6 +297,11 @@ public class VkRefreshCycleDurationGOOGLE extends Struct implements NativeResour
         @NativeType("uint64_t")
         public long refreshDuration() { return VkRefreshCycleDurationGOOGLE.nrefreshDuration(address()); }
 
+        /** Copies the {@code refreshDuration} field of the structs between the current position and limit to the specified array. */
+        public VkRefreshCycleDurationGOOGLE.Buffer getRefreshDuration(long[] dst) { gather(VkRefreshCycleDurationGOOGLE.REFRESHDURATION, dst); return this; }
+        /** Copies the {@code refreshDuration} field of the structs between the current position and limit to the specified buffer. */
+        public VkRefreshCycleDurationGOOGLE.Buffer getRefreshDuration(LongBuffer dst) { gather(VkRefreshCycleDurationGOOGLE.REFRESHDURATION, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -246,6 +246,24 @@ public class VkRenderPassAttachmentBeginInfoKHR extends Struct implements Native
         return wrap(VkRenderPassAttachmentBeginInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassAttachmentBeginInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassAttachmentBeginInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkRenderPassAttachmentBeginInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassAttachmentBeginInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassAttachmentBeginInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkRenderPassAttachmentBeginInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassAttachmentBeginInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class VkRenderPassAttachmentBeginInfoKHR extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassAttachmentBeginInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassAttachmentBeginInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassAttachmentBeginInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassAttachmentBeginInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -386,6 +424,20 @@ public class VkRenderPassAttachmentBeginInfoKHR extends Struct implements Native
         /** Sets the address of the specified {@link LongBuffer} to the {@code pAttachments} field. */
         public VkRenderPassAttachmentBeginInfoKHR.Buffer pAttachments(@Nullable @NativeType("VkImageView const *") LongBuffer value) { VkRenderPassAttachmentBeginInfoKHR.npAttachments(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassAttachmentBeginInfoKHR.Buffer getSType(int[] dst) { gather(VkRenderPassAttachmentBeginInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassAttachmentBeginInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkRenderPassAttachmentBeginInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassAttachmentBeginInfoKHR.Buffer getAttachmentCount(int[] dst) { gather(VkRenderPassAttachmentBeginInfoKHR.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassAttachmentBeginInfoKHR.Buffer getAttachmentCount(IntBuffer dst) { gather(VkRenderPassAttachmentBeginInfoKHR.ATTACHMENTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassAttachmentBeginInfoKHR.Buffer putSType(int[] src) { scatter(VkRenderPassAttachmentBeginInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassAttachmentBeginInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkRenderPassAttachmentBeginInfoKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -315,6 +315,24 @@ public class VkRenderPassBeginInfo extends Struct implements NativeResource {
         return wrap(VkRenderPassBeginInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassBeginInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassBeginInfo malloc(MemoryArena arena) {
+        return wrap(VkRenderPassBeginInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassBeginInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassBeginInfo calloc(MemoryArena arena) {
+        return wrap(VkRenderPassBeginInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassBeginInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -353,6 +371,26 @@ public class VkRenderPassBeginInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassBeginInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassBeginInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassBeginInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -483,6 +521,36 @@ public class VkRenderPassBeginInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkClearValue.Buffer} to the {@code pClearValues} field. */
         public VkRenderPassBeginInfo.Buffer pClearValues(@Nullable @NativeType("VkClearValue const *") VkClearValue.Buffer value) { VkRenderPassBeginInfo.npClearValues(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassBeginInfo.Buffer getSType(int[] dst) { gather(VkRenderPassBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassBeginInfo.Buffer getSType(IntBuffer dst) { gather(VkRenderPassBeginInfo.STYPE, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassBeginInfo.Buffer getRenderPass(long[] dst) { gather(VkRenderPassBeginInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code renderPass} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassBeginInfo.Buffer getRenderPass(LongBuffer dst) { gather(VkRenderPassBeginInfo.RENDERPASS, dst); return this; }
+        /** Copies the {@code framebuffer} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassBeginInfo.Buffer getFramebuffer(long[] dst) { gather(VkRenderPassBeginInfo.FRAMEBUFFER, dst); return this; }
+        /** Copies the {@code framebuffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassBeginInfo.Buffer getFramebuffer(LongBuffer dst) { gather(VkRenderPassBeginInfo.FRAMEBUFFER, dst); return this; }
+        /** Copies the {@code clearValueCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassBeginInfo.Buffer getClearValueCount(int[] dst) { gather(VkRenderPassBeginInfo.CLEARVALUECOUNT, dst); return this; }
+        /** Copies the {@code clearValueCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassBeginInfo.Buffer getClearValueCount(IntBuffer dst) { gather(VkRenderPassBeginInfo.CLEARVALUECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassBeginInfo.Buffer putSType(int[] src) { scatter(VkRenderPassBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassBeginInfo.Buffer putSType(IntBuffer src) { scatter(VkRenderPassBeginInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkRenderPassBeginInfo.Buffer putRenderPass(long[] src) { scatter(VkRenderPassBeginInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code renderPass} field of the structs between the current position and limit. */
+        public VkRenderPassBeginInfo.Buffer putRenderPass(LongBuffer src) { scatter(VkRenderPassBeginInfo.RENDERPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code framebuffer} field of the structs between the current position and limit. */
+        public VkRenderPassBeginInfo.Buffer putFramebuffer(long[] src) { scatter(VkRenderPassBeginInfo.FRAMEBUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code framebuffer} field of the structs between the current position and limit. */
+        public VkRenderPassBeginInfo.Buffer putFramebuffer(LongBuffer src) { scatter(VkRenderPassBeginInfo.FRAMEBUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -333,6 +333,24 @@ public class VkRenderPassCreateInfo extends Struct implements NativeResource {
         return wrap(VkRenderPassCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkRenderPassCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkRenderPassCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -371,6 +389,26 @@ public class VkRenderPassCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -522,6 +560,36 @@ public class VkRenderPassCreateInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkSubpassDependency.Buffer} to the {@code pDependencies} field. */
         public VkRenderPassCreateInfo.Buffer pDependencies(@Nullable @NativeType("VkSubpassDependency const *") VkSubpassDependency.Buffer value) { VkRenderPassCreateInfo.npDependencies(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo.Buffer getSType(int[] dst) { gather(VkRenderPassCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkRenderPassCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo.Buffer getFlags(int[] dst) { gather(VkRenderPassCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkRenderPassCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo.Buffer getAttachmentCount(int[] dst) { gather(VkRenderPassCreateInfo.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo.Buffer getAttachmentCount(IntBuffer dst) { gather(VkRenderPassCreateInfo.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code subpassCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo.Buffer getSubpassCount(int[] dst) { gather(VkRenderPassCreateInfo.SUBPASSCOUNT, dst); return this; }
+        /** Copies the {@code subpassCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo.Buffer getSubpassCount(IntBuffer dst) { gather(VkRenderPassCreateInfo.SUBPASSCOUNT, dst); return this; }
+        /** Copies the {@code dependencyCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo.Buffer getDependencyCount(int[] dst) { gather(VkRenderPassCreateInfo.DEPENDENCYCOUNT, dst); return this; }
+        /** Copies the {@code dependencyCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo.Buffer getDependencyCount(IntBuffer dst) { gather(VkRenderPassCreateInfo.DEPENDENCYCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo.Buffer putSType(int[] src) { scatter(VkRenderPassCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkRenderPassCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo.Buffer putFlags(int[] src) { scatter(VkRenderPassCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkRenderPassCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
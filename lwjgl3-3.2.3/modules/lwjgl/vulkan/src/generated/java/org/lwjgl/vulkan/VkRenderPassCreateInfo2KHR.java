@@ -351,6 +351,24 @@ public class VkRenderPassCreateInfo2KHR extends Struct implements NativeResource
         return wrap(VkRenderPassCreateInfo2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassCreateInfo2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo2KHR malloc(MemoryArena arena) {
+        return wrap(VkRenderPassCreateInfo2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassCreateInfo2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo2KHR calloc(MemoryArena arena) {
+        return wrap(VkRenderPassCreateInfo2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassCreateInfo2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -389,6 +407,26 @@ public class VkRenderPassCreateInfo2KHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassCreateInfo2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassCreateInfo2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassCreateInfo2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -560,6 +598,40 @@ public class VkRenderPassCreateInfo2KHR extends Struct implements NativeResource
         /** Sets the address of the specified {@link IntBuffer} to the {@code pCorrelatedViewMasks} field. */
         public VkRenderPassCreateInfo2KHR.Buffer pCorrelatedViewMasks(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkRenderPassCreateInfo2KHR.npCorrelatedViewMasks(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo2KHR.Buffer getSType(int[] dst) { gather(VkRenderPassCreateInfo2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo2KHR.Buffer getSType(IntBuffer dst) { gather(VkRenderPassCreateInfo2KHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo2KHR.Buffer getFlags(int[] dst) { gather(VkRenderPassCreateInfo2KHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo2KHR.Buffer getFlags(IntBuffer dst) { gather(VkRenderPassCreateInfo2KHR.FLAGS, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo2KHR.Buffer getAttachmentCount(int[] dst) { gather(VkRenderPassCreateInfo2KHR.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code attachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo2KHR.Buffer getAttachmentCount(IntBuffer dst) { gather(VkRenderPassCreateInfo2KHR.ATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code subpassCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo2KHR.Buffer getSubpassCount(int[] dst) { gather(VkRenderPassCreateInfo2KHR.SUBPASSCOUNT, dst); return this; }
+        /** Copies the {@code subpassCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo2KHR.Buffer getSubpassCount(IntBuffer dst) { gather(VkRenderPassCreateInfo2KHR.SUBPASSCOUNT, dst); return this; }
+        /** Copies the {@code dependencyCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo2KHR.Buffer getDependencyCount(int[] dst) { gather(VkRenderPassCreateInfo2KHR.DEPENDENCYCOUNT, dst); return this; }
+        /** Copies the {@code dependencyCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo2KHR.Buffer getDependencyCount(IntBuffer dst) { gather(VkRenderPassCreateInfo2KHR.DEPENDENCYCOUNT, dst); return this; }
+        /** Copies the {@code correlatedViewMaskCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassCreateInfo2KHR.Buffer getCorrelatedViewMaskCount(int[] dst) { gather(VkRenderPassCreateInfo2KHR.CORRELATEDVIEWMASKCOUNT, dst); return this; }
+        /** Copies the {@code correlatedViewMaskCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassCreateInfo2KHR.Buffer getCorrelatedViewMaskCount(IntBuffer dst) { gather(VkRenderPassCreateInfo2KHR.CORRELATEDVIEWMASKCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo2KHR.Buffer putSType(int[] src) { scatter(VkRenderPassCreateInfo2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo2KHR.Buffer putSType(IntBuffer src) { scatter(VkRenderPassCreateInfo2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo2KHR.Buffer putFlags(int[] src) { scatter(VkRenderPassCreateInfo2KHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkRenderPassCreateInfo2KHR.Buffer putFlags(IntBuffer src) { scatter(VkRenderPassCreateInfo2KHR.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -250,6 +250,24 @@ public class VkRenderPassFragmentDensityMapCreateInfoEXT extends Struct implemen
         return wrap(VkRenderPassFragmentDensityMapCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassFragmentDensityMapCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassFragmentDensityMapCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkRenderPassFragmentDensityMapCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassFragmentDensityMapCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassFragmentDensityMapCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkRenderPassFragmentDensityMapCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -288,6 +306,26 @@ public class VkRenderPassFragmentDensityMapCreateInfoEXT extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -360,6 +398,16 @@ public class VkRenderPassFragmentDensityMapCreateInfoEXT extends Struct implemen
         /** Passes the {@code fragmentDensityMapAttachment} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer fragmentDensityMapAttachment(java.util.function.Consumer<VkAttachmentReference> consumer) { consumer.accept(fragmentDensityMapAttachment()); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkRenderPassFragmentDensityMapCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkRenderPassFragmentDensityMapCreateInfoEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkRenderPassFragmentDensityMapCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassFragmentDensityMapCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkRenderPassFragmentDensityMapCreateInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -243,6 +243,24 @@ public class VkRenderPassInputAttachmentAspectCreateInfo extends Struct implemen
         return wrap(VkRenderPassInputAttachmentAspectCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassInputAttachmentAspectCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassInputAttachmentAspectCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkRenderPassInputAttachmentAspectCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassInputAttachmentAspectCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassInputAttachmentAspectCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkRenderPassInputAttachmentAspectCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassInputAttachmentAspectCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -281,6 +299,26 @@ public class VkRenderPassInputAttachmentAspectCreateInfo extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassInputAttachmentAspectCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassInputAttachmentAspectCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassInputAttachmentAspectCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassInputAttachmentAspectCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -380,6 +418,20 @@ public class VkRenderPassInputAttachmentAspectCreateInfo extends Struct implemen
         /** Sets the address of the specified {@link VkInputAttachmentAspectReference.Buffer} to the {@code pAspectReferences} field. */
         public VkRenderPassInputAttachmentAspectCreateInfo.Buffer pAspectReferences(@NativeType("VkInputAttachmentAspectReference const *") VkInputAttachmentAspectReference.Buffer value) { VkRenderPassInputAttachmentAspectCreateInfo.npAspectReferences(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassInputAttachmentAspectCreateInfo.Buffer getSType(int[] dst) { gather(VkRenderPassInputAttachmentAspectCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassInputAttachmentAspectCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkRenderPassInputAttachmentAspectCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code aspectReferenceCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassInputAttachmentAspectCreateInfo.Buffer getAspectReferenceCount(int[] dst) { gather(VkRenderPassInputAttachmentAspectCreateInfo.ASPECTREFERENCECOUNT, dst); return this; }
+        /** Copies the {@code aspectReferenceCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassInputAttachmentAspectCreateInfo.Buffer getAspectReferenceCount(IntBuffer dst) { gather(VkRenderPassInputAttachmentAspectCreateInfo.ASPECTREFERENCECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassInputAttachmentAspectCreateInfo.Buffer putSType(int[] src) { scatter(VkRenderPassInputAttachmentAspectCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassInputAttachmentAspectCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkRenderPassInputAttachmentAspectCreateInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -307,6 +307,24 @@ public class VkRenderPassMultiviewCreateInfo extends Struct implements NativeRes
         return wrap(VkRenderPassMultiviewCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassMultiviewCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassMultiviewCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkRenderPassMultiviewCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassMultiviewCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassMultiviewCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkRenderPassMultiviewCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassMultiviewCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -345,6 +363,26 @@ public class VkRenderPassMultiviewCreateInfo extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassMultiviewCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassMultiviewCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassMultiviewCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassMultiviewCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -487,6 +525,28 @@ public class VkRenderPassMultiviewCreateInfo extends Struct implements NativeRes
         /** Sets the address of the specified {@link IntBuffer} to the {@code pCorrelationMasks} field. */
         public VkRenderPassMultiviewCreateInfo.Buffer pCorrelationMasks(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkRenderPassMultiviewCreateInfo.npCorrelationMasks(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getSType(int[] dst) { gather(VkRenderPassMultiviewCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkRenderPassMultiviewCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code subpassCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getSubpassCount(int[] dst) { gather(VkRenderPassMultiviewCreateInfo.SUBPASSCOUNT, dst); return this; }
+        /** Copies the {@code subpassCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getSubpassCount(IntBuffer dst) { gather(VkRenderPassMultiviewCreateInfo.SUBPASSCOUNT, dst); return this; }
+        /** Copies the {@code dependencyCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getDependencyCount(int[] dst) { gather(VkRenderPassMultiviewCreateInfo.DEPENDENCYCOUNT, dst); return this; }
+        /** Copies the {@code dependencyCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getDependencyCount(IntBuffer dst) { gather(VkRenderPassMultiviewCreateInfo.DEPENDENCYCOUNT, dst); return this; }
+        /** Copies the {@code correlationMaskCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getCorrelationMaskCount(int[] dst) { gather(VkRenderPassMultiviewCreateInfo.CORRELATIONMASKCOUNT, dst); return this; }
+        /** Copies the {@code correlationMaskCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassMultiviewCreateInfo.Buffer getCorrelationMaskCount(IntBuffer dst) { gather(VkRenderPassMultiviewCreateInfo.CORRELATIONMASKCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassMultiviewCreateInfo.Buffer putSType(int[] src) { scatter(VkRenderPassMultiviewCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassMultiviewCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkRenderPassMultiviewCreateInfo.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
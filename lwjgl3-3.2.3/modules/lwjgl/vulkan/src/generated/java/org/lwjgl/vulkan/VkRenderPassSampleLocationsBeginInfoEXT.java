@@ -265,6 +265,24 @@ public class VkRenderPassSampleLocationsBeginInfoEXT extends Struct implements N
         return wrap(VkRenderPassSampleLocationsBeginInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkRenderPassSampleLocationsBeginInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassSampleLocationsBeginInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkRenderPassSampleLocationsBeginInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkRenderPassSampleLocationsBeginInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkRenderPassSampleLocationsBeginInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkRenderPassSampleLocationsBeginInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkRenderPassSampleLocationsBeginInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -303,6 +321,26 @@ public class VkRenderPassSampleLocationsBeginInfoEXT extends Struct implements N
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkRenderPassSampleLocationsBeginInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassSampleLocationsBeginInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkRenderPassSampleLocationsBeginInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkRenderPassSampleLocationsBeginInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -431,6 +469,24 @@ public class VkRenderPassSampleLocationsBeginInfoEXT extends Struct implements N
         /** Sets the address of the specified {@link VkSubpassSampleLocationsEXT.Buffer} to the {@code pPostSubpassSampleLocations} field. */
         public VkRenderPassSampleLocationsBeginInfoEXT.Buffer pPostSubpassSampleLocations(@Nullable @NativeType("VkSubpassSampleLocationsEXT const *") VkSubpassSampleLocationsEXT.Buffer value) { VkRenderPassSampleLocationsBeginInfoEXT.npPostSubpassSampleLocations(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer getSType(int[] dst) { gather(VkRenderPassSampleLocationsBeginInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkRenderPassSampleLocationsBeginInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code attachmentInitialSampleLocationsCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer getAttachmentInitialSampleLocationsCount(int[] dst) { gather(VkRenderPassSampleLocationsBeginInfoEXT.ATTACHMENTINITIALSAMPLELOCATIONSCOUNT, dst); return this; }
+        /** Copies the {@code attachmentInitialSampleLocationsCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer getAttachmentInitialSampleLocationsCount(IntBuffer dst) { gather(VkRenderPassSampleLocationsBeginInfoEXT.ATTACHMENTINITIALSAMPLELOCATIONSCOUNT, dst); return this; }
+        /** Copies the {@code postSubpassSampleLocationsCount} field of the structs between the current position and limit to the specified array. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer getPostSubpassSampleLocationsCount(int[] dst) { gather(VkRenderPassSampleLocationsBeginInfoEXT.POSTSUBPASSSAMPLELOCATIONSCOUNT, dst); return this; }
+        /** Copies the {@code postSubpassSampleLocationsCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer getPostSubpassSampleLocationsCount(IntBuffer dst) { gather(VkRenderPassSampleLocationsBeginInfoEXT.POSTSUBPASSSAMPLELOCATIONSCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer putSType(int[] src) { scatter(VkRenderPassSampleLocationsBeginInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkRenderPassSampleLocationsBeginInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkRenderPassSampleLocationsBeginInfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -218,6 +218,24 @@ public class VkSampleLocationEXT extends Struct implements NativeResource {
         return wrap(VkSampleLocationEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSampleLocationEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSampleLocationEXT malloc(MemoryArena arena) {
+        return wrap(VkSampleLocationEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSampleLocationEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSampleLocationEXT calloc(MemoryArena arena) {
+        return wrap(VkSampleLocationEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSampleLocationEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -256,6 +274,26 @@ public class VkSampleLocationEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSampleLocationEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSampleLocationEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSampleLocationEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSampleLocationEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -316,6 +354,24 @@ public class VkSampleLocationEXT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public VkSampleLocationEXT.Buffer y(float value) { VkSampleLocationEXT.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VkSampleLocationEXT.Buffer getX(float[] dst) { gather(VkSampleLocationEXT.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VkSampleLocationEXT.Buffer getX(FloatBuffer dst) { gather(VkSampleLocationEXT.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VkSampleLocationEXT.Buffer getY(float[] dst) { gather(VkSampleLocationEXT.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VkSampleLocationEXT.Buffer getY(FloatBuffer dst) { gather(VkSampleLocationEXT.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VkSampleLocationEXT.Buffer putX(float[] src) { scatter(VkSampleLocationEXT.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VkSampleLocationEXT.Buffer putX(FloatBuffer src) { scatter(VkSampleLocationEXT.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VkSampleLocationEXT.Buffer putY(float[] src) { scatter(VkSampleLocationEXT.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VkSampleLocationEXT.Buffer putY(FloatBuffer src) { scatter(VkSampleLocationEXT.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
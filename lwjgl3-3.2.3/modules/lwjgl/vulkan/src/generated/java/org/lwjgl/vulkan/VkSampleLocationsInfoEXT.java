@@ -284,6 +284,24 @@ public class VkSampleLocationsInfoEXT extends Struct implements NativeResource {
         return wrap(VkSampleLocationsInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSampleLocationsInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSampleLocationsInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkSampleLocationsInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSampleLocationsInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSampleLocationsInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkSampleLocationsInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSampleLocationsInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -322,6 +340,26 @@ public class VkSampleLocationsInfoEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSampleLocationsInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSampleLocationsInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSampleLocationsInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSampleLocationsInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -443,6 +481,28 @@ public class VkSampleLocationsInfoEXT extends Struct implements NativeResource {
         /** Sets the address of the specified {@link VkSampleLocationEXT.Buffer} to the {@code pSampleLocations} field. */
         public VkSampleLocationsInfoEXT.Buffer pSampleLocations(@Nullable @NativeType("VkSampleLocationEXT const *") VkSampleLocationEXT.Buffer value) { VkSampleLocationsInfoEXT.npSampleLocations(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSampleLocationsInfoEXT.Buffer getSType(int[] dst) { gather(VkSampleLocationsInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSampleLocationsInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkSampleLocationsInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sampleLocationsPerPixel} field of the structs between the current position and limit to the specified array. */
+        public VkSampleLocationsInfoEXT.Buffer getSampleLocationsPerPixel(int[] dst) { gather(VkSampleLocationsInfoEXT.SAMPLELOCATIONSPERPIXEL, dst); return this; }
+        /** Copies the {@code sampleLocationsPerPixel} field of the structs between the current position and limit to the specified buffer. */
+        public VkSampleLocationsInfoEXT.Buffer getSampleLocationsPerPixel(IntBuffer dst) { gather(VkSampleLocationsInfoEXT.SAMPLELOCATIONSPERPIXEL, dst); return this; }
+        /** Copies the {@code sampleLocationsCount} field of the structs between the current position and limit to the specified array. */
+        public VkSampleLocationsInfoEXT.Buffer getSampleLocationsCount(int[] dst) { gather(VkSampleLocationsInfoEXT.SAMPLELOCATIONSCOUNT, dst); return this; }
+        /** Copies the {@code sampleLocationsCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSampleLocationsInfoEXT.Buffer getSampleLocationsCount(IntBuffer dst) { gather(VkSampleLocationsInfoEXT.SAMPLELOCATIONSCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSampleLocationsInfoEXT.Buffer putSType(int[] src) { scatter(VkSampleLocationsInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSampleLocationsInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkSampleLocationsInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code sampleLocationsPerPixel} field of the structs between the current position and limit. */
+        public VkSampleLocationsInfoEXT.Buffer putSampleLocationsPerPixel(int[] src) { scatter(VkSampleLocationsInfoEXT.SAMPLELOCATIONSPERPIXEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sampleLocationsPerPixel} field of the structs between the current position and limit. */
+        public VkSampleLocationsInfoEXT.Buffer putSampleLocationsPerPixel(IntBuffer src) { scatter(VkSampleLocationsInfoEXT.SAMPLELOCATIONSPERPIXEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
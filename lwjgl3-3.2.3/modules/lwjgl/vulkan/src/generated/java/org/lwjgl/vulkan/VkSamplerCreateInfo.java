@@ -480,6 +480,24 @@ public class VkSamplerCreateInfo extends Struct implements NativeResource {
         return wrap(VkSamplerCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSamplerCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkSamplerCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSamplerCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkSamplerCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSamplerCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -518,6 +536,26 @@ public class VkSamplerCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSamplerCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSamplerCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -720,6 +758,120 @@ public class VkSamplerCreateInfo extends Struct implements NativeResource {
         /** Sets the specified value to the {@code unnormalizedCoordinates} field. */
         public VkSamplerCreateInfo.Buffer unnormalizedCoordinates(@NativeType("VkBool32") boolean value) { VkSamplerCreateInfo.nunnormalizedCoordinates(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getSType(int[] dst) { gather(VkSamplerCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkSamplerCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getFlags(int[] dst) { gather(VkSamplerCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkSamplerCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code magFilter} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMagFilter(int[] dst) { gather(VkSamplerCreateInfo.MAGFILTER, dst); return this; }
+        /** Copies the {@code magFilter} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMagFilter(IntBuffer dst) { gather(VkSamplerCreateInfo.MAGFILTER, dst); return this; }
+        /** Copies the {@code minFilter} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMinFilter(int[] dst) { gather(VkSamplerCreateInfo.MINFILTER, dst); return this; }
+        /** Copies the {@code minFilter} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMinFilter(IntBuffer dst) { gather(VkSamplerCreateInfo.MINFILTER, dst); return this; }
+        /** Copies the {@code mipmapMode} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMipmapMode(int[] dst) { gather(VkSamplerCreateInfo.MIPMAPMODE, dst); return this; }
+        /** Copies the {@code mipmapMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMipmapMode(IntBuffer dst) { gather(VkSamplerCreateInfo.MIPMAPMODE, dst); return this; }
+        /** Copies the {@code addressModeU} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getAddressModeU(int[] dst) { gather(VkSamplerCreateInfo.ADDRESSMODEU, dst); return this; }
+        /** Copies the {@code addressModeU} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getAddressModeU(IntBuffer dst) { gather(VkSamplerCreateInfo.ADDRESSMODEU, dst); return this; }
+        /** Copies the {@code addressModeV} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getAddressModeV(int[] dst) { gather(VkSamplerCreateInfo.ADDRESSMODEV, dst); return this; }
+        /** Copies the {@code addressModeV} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getAddressModeV(IntBuffer dst) { gather(VkSamplerCreateInfo.ADDRESSMODEV, dst); return this; }
+        /** Copies the {@code addressModeW} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getAddressModeW(int[] dst) { gather(VkSamplerCreateInfo.ADDRESSMODEW, dst); return this; }
+        /** Copies the {@code addressModeW} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getAddressModeW(IntBuffer dst) { gather(VkSamplerCreateInfo.ADDRESSMODEW, dst); return this; }
+        /** Copies the {@code mipLodBias} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMipLodBias(float[] dst) { gather(VkSamplerCreateInfo.MIPLODBIAS, dst); return this; }
+        /** Copies the {@code mipLodBias} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMipLodBias(FloatBuffer dst) { gather(VkSamplerCreateInfo.MIPLODBIAS, dst); return this; }
+        /** Copies the {@code maxAnisotropy} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMaxAnisotropy(float[] dst) { gather(VkSamplerCreateInfo.MAXANISOTROPY, dst); return this; }
+        /** Copies the {@code maxAnisotropy} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMaxAnisotropy(FloatBuffer dst) { gather(VkSamplerCreateInfo.MAXANISOTROPY, dst); return this; }
+        /** Copies the {@code compareOp} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getCompareOp(int[] dst) { gather(VkSamplerCreateInfo.COMPAREOP, dst); return this; }
+        /** Copies the {@code compareOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getCompareOp(IntBuffer dst) { gather(VkSamplerCreateInfo.COMPAREOP, dst); return this; }
+        /** Copies the {@code minLod} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMinLod(float[] dst) { gather(VkSamplerCreateInfo.MINLOD, dst); return this; }
+        /** Copies the {@code minLod} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMinLod(FloatBuffer dst) { gather(VkSamplerCreateInfo.MINLOD, dst); return this; }
+        /** Copies the {@code maxLod} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getMaxLod(float[] dst) { gather(VkSamplerCreateInfo.MAXLOD, dst); return this; }
+        /** Copies the {@code maxLod} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getMaxLod(FloatBuffer dst) { gather(VkSamplerCreateInfo.MAXLOD, dst); return this; }
+        /** Copies the {@code borderColor} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerCreateInfo.Buffer getBorderColor(int[] dst) { gather(VkSamplerCreateInfo.BORDERCOLOR, dst); return this; }
+        /** Copies the {@code borderColor} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerCreateInfo.Buffer getBorderColor(IntBuffer dst) { gather(VkSamplerCreateInfo.BORDERCOLOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putSType(int[] src) { scatter(VkSamplerCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkSamplerCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putFlags(int[] src) { scatter(VkSamplerCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkSamplerCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code magFilter} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMagFilter(int[] src) { scatter(VkSamplerCreateInfo.MAGFILTER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code magFilter} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMagFilter(IntBuffer src) { scatter(VkSamplerCreateInfo.MAGFILTER, src); return this; }
+        /** Copies the values in the specified array to the {@code minFilter} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMinFilter(int[] src) { scatter(VkSamplerCreateInfo.MINFILTER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minFilter} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMinFilter(IntBuffer src) { scatter(VkSamplerCreateInfo.MINFILTER, src); return this; }
+        /** Copies the values in the specified array to the {@code mipmapMode} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMipmapMode(int[] src) { scatter(VkSamplerCreateInfo.MIPMAPMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipmapMode} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMipmapMode(IntBuffer src) { scatter(VkSamplerCreateInfo.MIPMAPMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code addressModeU} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putAddressModeU(int[] src) { scatter(VkSamplerCreateInfo.ADDRESSMODEU, src); return this; }
+        /** Copies the values in the specified buffer to the {@code addressModeU} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putAddressModeU(IntBuffer src) { scatter(VkSamplerCreateInfo.ADDRESSMODEU, src); return this; }
+        /** Copies the values in the specified array to the {@code addressModeV} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putAddressModeV(int[] src) { scatter(VkSamplerCreateInfo.ADDRESSMODEV, src); return this; }
+        /** Copies the values in the specified buffer to the {@code addressModeV} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putAddressModeV(IntBuffer src) { scatter(VkSamplerCreateInfo.ADDRESSMODEV, src); return this; }
+        /** Copies the values in the specified array to the {@code addressModeW} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putAddressModeW(int[] src) { scatter(VkSamplerCreateInfo.ADDRESSMODEW, src); return this; }
+        /** Copies the values in the specified buffer to the {@code addressModeW} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putAddressModeW(IntBuffer src) { scatter(VkSamplerCreateInfo.ADDRESSMODEW, src); return this; }
+        /** Copies the values in the specified array to the {@code mipLodBias} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMipLodBias(float[] src) { scatter(VkSamplerCreateInfo.MIPLODBIAS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code mipLodBias} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMipLodBias(FloatBuffer src) { scatter(VkSamplerCreateInfo.MIPLODBIAS, src); return this; }
+        /** Copies the values in the specified array to the {@code maxAnisotropy} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMaxAnisotropy(float[] src) { scatter(VkSamplerCreateInfo.MAXANISOTROPY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxAnisotropy} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMaxAnisotropy(FloatBuffer src) { scatter(VkSamplerCreateInfo.MAXANISOTROPY, src); return this; }
+        /** Copies the values in the specified array to the {@code compareOp} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putCompareOp(int[] src) { scatter(VkSamplerCreateInfo.COMPAREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compareOp} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putCompareOp(IntBuffer src) { scatter(VkSamplerCreateInfo.COMPAREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code minLod} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMinLod(float[] src) { scatter(VkSamplerCreateInfo.MINLOD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minLod} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMinLod(FloatBuffer src) { scatter(VkSamplerCreateInfo.MINLOD, src); return this; }
+        /** Copies the values in the specified array to the {@code maxLod} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMaxLod(float[] src) { scatter(VkSamplerCreateInfo.MAXLOD, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxLod} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putMaxLod(FloatBuffer src) { scatter(VkSamplerCreateInfo.MAXLOD, src); return this; }
+        /** Copies the values in the specified array to the {@code borderColor} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putBorderColor(int[] src) { scatter(VkSamplerCreateInfo.BORDERCOLOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code borderColor} field of the structs between the current position and limit. */
+        public VkSamplerCreateInfo.Buffer putBorderColor(IntBuffer src) { scatter(VkSamplerCreateInfo.BORDERCOLOR, src); return this; }
+
     }
 
 }
\ No newline at end of file
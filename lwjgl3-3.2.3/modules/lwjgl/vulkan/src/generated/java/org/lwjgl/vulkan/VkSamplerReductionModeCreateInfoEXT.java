@@ -233,6 +233,24 @@ public class VkSamplerReductionModeCreateInfoEXT extends Struct implements Nativ
         return wrap(VkSamplerReductionModeCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSamplerReductionModeCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerReductionModeCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkSamplerReductionModeCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSamplerReductionModeCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerReductionModeCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkSamplerReductionModeCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSamplerReductionModeCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkSamplerReductionModeCreateInfoEXT extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSamplerReductionModeCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerReductionModeCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSamplerReductionModeCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerReductionModeCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,24 @@ public class VkSamplerReductionModeCreateInfoEXT extends Struct implements Nativ
         /** Sets the specified value to the {@code reductionMode} field. */
         public VkSamplerReductionModeCreateInfoEXT.Buffer reductionMode(@NativeType("VkSamplerReductionModeEXT") int value) { VkSamplerReductionModeCreateInfoEXT.nreductionMode(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkSamplerReductionModeCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkSamplerReductionModeCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code reductionMode} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer getReductionMode(int[] dst) { gather(VkSamplerReductionModeCreateInfoEXT.REDUCTIONMODE, dst); return this; }
+        /** Copies the {@code reductionMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer getReductionMode(IntBuffer dst) { gather(VkSamplerReductionModeCreateInfoEXT.REDUCTIONMODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkSamplerReductionModeCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkSamplerReductionModeCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code reductionMode} field of the structs between the current position and limit. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer putReductionMode(int[] src) { scatter(VkSamplerReductionModeCreateInfoEXT.REDUCTIONMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code reductionMode} field of the structs between the current position and limit. */
+        public VkSamplerReductionModeCreateInfoEXT.Buffer putReductionMode(IntBuffer src) { scatter(VkSamplerReductionModeCreateInfoEXT.REDUCTIONMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -355,6 +355,24 @@ public class VkSamplerYcbcrConversionCreateInfo extends Struct implements Native
         return wrap(VkSamplerYcbcrConversionCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSamplerYcbcrConversionCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkSamplerYcbcrConversionCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSamplerYcbcrConversionCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkSamplerYcbcrConversionCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSamplerYcbcrConversionCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -393,6 +411,26 @@ public class VkSamplerYcbcrConversionCreateInfo extends Struct implements Native
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSamplerYcbcrConversionCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSamplerYcbcrConversionCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -528,6 +566,64 @@ public class VkSamplerYcbcrConversionCreateInfo extends Struct implements Native
         /** Sets the specified value to the {@code forceExplicitReconstruction} field. */
         public VkSamplerYcbcrConversionCreateInfo.Buffer forceExplicitReconstruction(@NativeType("VkBool32") boolean value) { VkSamplerYcbcrConversionCreateInfo.nforceExplicitReconstruction(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getSType(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getFormat(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getFormat(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.FORMAT, dst); return this; }
+        /** Copies the {@code ycbcrModel} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getYcbcrModel(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.YCBCRMODEL, dst); return this; }
+        /** Copies the {@code ycbcrModel} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getYcbcrModel(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.YCBCRMODEL, dst); return this; }
+        /** Copies the {@code ycbcrRange} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getYcbcrRange(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.YCBCRRANGE, dst); return this; }
+        /** Copies the {@code ycbcrRange} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getYcbcrRange(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.YCBCRRANGE, dst); return this; }
+        /** Copies the {@code xChromaOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getXChromaOffset(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.XCHROMAOFFSET, dst); return this; }
+        /** Copies the {@code xChromaOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getXChromaOffset(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.XCHROMAOFFSET, dst); return this; }
+        /** Copies the {@code yChromaOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getYChromaOffset(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.YCHROMAOFFSET, dst); return this; }
+        /** Copies the {@code yChromaOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getYChromaOffset(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.YCHROMAOFFSET, dst); return this; }
+        /** Copies the {@code chromaFilter} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getChromaFilter(int[] dst) { gather(VkSamplerYcbcrConversionCreateInfo.CHROMAFILTER, dst); return this; }
+        /** Copies the {@code chromaFilter} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer getChromaFilter(IntBuffer dst) { gather(VkSamplerYcbcrConversionCreateInfo.CHROMAFILTER, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putSType(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putFormat(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putFormat(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code ycbcrModel} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putYcbcrModel(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.YCBCRMODEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ycbcrModel} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putYcbcrModel(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.YCBCRMODEL, src); return this; }
+        /** Copies the values in the specified array to the {@code ycbcrRange} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putYcbcrRange(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.YCBCRRANGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ycbcrRange} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putYcbcrRange(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.YCBCRRANGE, src); return this; }
+        /** Copies the values in the specified array to the {@code xChromaOffset} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putXChromaOffset(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.XCHROMAOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code xChromaOffset} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putXChromaOffset(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.XCHROMAOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code yChromaOffset} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putYChromaOffset(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.YCHROMAOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code yChromaOffset} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putYChromaOffset(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.YCHROMAOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code chromaFilter} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putChromaFilter(int[] src) { scatter(VkSamplerYcbcrConversionCreateInfo.CHROMAFILTER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code chromaFilter} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionCreateInfo.Buffer putChromaFilter(IntBuffer src) { scatter(VkSamplerYcbcrConversionCreateInfo.CHROMAFILTER, src); return this; }
+
     }
 
 }
\ No newline at end of file
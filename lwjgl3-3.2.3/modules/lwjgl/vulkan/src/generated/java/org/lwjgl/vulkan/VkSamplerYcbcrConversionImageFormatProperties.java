@@ -224,6 +224,24 @@ public class VkSamplerYcbcrConversionImageFormatProperties extends Struct implem
         return wrap(VkSamplerYcbcrConversionImageFormatProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSamplerYcbcrConversionImageFormatProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionImageFormatProperties malloc(MemoryArena arena) {
+        return wrap(VkSamplerYcbcrConversionImageFormatProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSamplerYcbcrConversionImageFormatProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionImageFormatProperties calloc(MemoryArena arena) {
+        return wrap(VkSamplerYcbcrConversionImageFormatProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSamplerYcbcrConversionImageFormatProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkSamplerYcbcrConversionImageFormatProperties extends Struct implem
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSamplerYcbcrConversionImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionImageFormatProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSamplerYcbcrConversionImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionImageFormatProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -329,6 +367,20 @@ public class VkSamplerYcbcrConversionImageFormatProperties extends Struct implem
         /** Sets the specified value to the {@code pNext} field. */
         public VkSamplerYcbcrConversionImageFormatProperties.Buffer pNext(@NativeType("void *") long value) { VkSamplerYcbcrConversionImageFormatProperties.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionImageFormatProperties.Buffer getSType(int[] dst) { gather(VkSamplerYcbcrConversionImageFormatProperties.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionImageFormatProperties.Buffer getSType(IntBuffer dst) { gather(VkSamplerYcbcrConversionImageFormatProperties.STYPE, dst); return this; }
+        /** Copies the {@code combinedImageSamplerDescriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionImageFormatProperties.Buffer getCombinedImageSamplerDescriptorCount(int[] dst) { gather(VkSamplerYcbcrConversionImageFormatProperties.COMBINEDIMAGESAMPLERDESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code combinedImageSamplerDescriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionImageFormatProperties.Buffer getCombinedImageSamplerDescriptorCount(IntBuffer dst) { gather(VkSamplerYcbcrConversionImageFormatProperties.COMBINEDIMAGESAMPLERDESCRIPTORCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionImageFormatProperties.Buffer putSType(int[] src) { scatter(VkSamplerYcbcrConversionImageFormatProperties.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionImageFormatProperties.Buffer putSType(IntBuffer src) { scatter(VkSamplerYcbcrConversionImageFormatProperties.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -229,6 +229,24 @@ public class VkSamplerYcbcrConversionInfo extends Struct implements NativeResour
         return wrap(VkSamplerYcbcrConversionInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSamplerYcbcrConversionInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionInfo malloc(MemoryArena arena) {
+        return wrap(VkSamplerYcbcrConversionInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSamplerYcbcrConversionInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionInfo calloc(MemoryArena arena) {
+        return wrap(VkSamplerYcbcrConversionInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSamplerYcbcrConversionInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkSamplerYcbcrConversionInfo extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSamplerYcbcrConversionInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSamplerYcbcrConversionInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSamplerYcbcrConversionInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkSamplerYcbcrConversionInfo extends Struct implements NativeResour
         /** Sets the specified value to the {@code conversion} field. */
         public VkSamplerYcbcrConversionInfo.Buffer conversion(@NativeType("VkSamplerYcbcrConversion") long value) { VkSamplerYcbcrConversionInfo.nconversion(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionInfo.Buffer getSType(int[] dst) { gather(VkSamplerYcbcrConversionInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionInfo.Buffer getSType(IntBuffer dst) { gather(VkSamplerYcbcrConversionInfo.STYPE, dst); return this; }
+        /** Copies the {@code conversion} field of the structs between the current position and limit to the specified array. */
+        public VkSamplerYcbcrConversionInfo.Buffer getConversion(long[] dst) { gather(VkSamplerYcbcrConversionInfo.CONVERSION, dst); return this; }
+        /** Copies the {@code conversion} field of the structs between the current position and limit to the specified buffer. */
+        public VkSamplerYcbcrConversionInfo.Buffer getConversion(LongBuffer dst) { gather(VkSamplerYcbcrConversionInfo.CONVERSION, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionInfo.Buffer putSType(int[] src) { scatter(VkSamplerYcbcrConversionInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionInfo.Buffer putSType(IntBuffer src) { scatter(VkSamplerYcbcrConversionInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code conversion} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionInfo.Buffer putConversion(long[] src) { scatter(VkSamplerYcbcrConversionInfo.CONVERSION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code conversion} field of the structs between the current position and limit. */
+        public VkSamplerYcbcrConversionInfo.Buffer putConversion(LongBuffer src) { scatter(VkSamplerYcbcrConversionInfo.CONVERSION, src); return this; }
+
     }
 
 }
\ No newline at end of file
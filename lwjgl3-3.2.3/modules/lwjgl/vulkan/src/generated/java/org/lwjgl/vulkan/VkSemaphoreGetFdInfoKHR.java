@@ -261,6 +261,24 @@ public class VkSemaphoreGetFdInfoKHR extends Struct implements NativeResource {
         return wrap(VkSemaphoreGetFdInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSemaphoreGetFdInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSemaphoreGetFdInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkSemaphoreGetFdInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSemaphoreGetFdInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSemaphoreGetFdInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkSemaphoreGetFdInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSemaphoreGetFdInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkSemaphoreGetFdInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSemaphoreGetFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSemaphoreGetFdInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSemaphoreGetFdInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSemaphoreGetFdInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -379,6 +417,32 @@ public class VkSemaphoreGetFdInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code handleType} field. */
         public VkSemaphoreGetFdInfoKHR.Buffer handleType(@NativeType("VkExternalSemaphoreHandleTypeFlagBits") int value) { VkSemaphoreGetFdInfoKHR.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSemaphoreGetFdInfoKHR.Buffer getSType(int[] dst) { gather(VkSemaphoreGetFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSemaphoreGetFdInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkSemaphoreGetFdInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified array. */
+        public VkSemaphoreGetFdInfoKHR.Buffer getSemaphore(long[] dst) { gather(VkSemaphoreGetFdInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified buffer. */
+        public VkSemaphoreGetFdInfoKHR.Buffer getSemaphore(LongBuffer dst) { gather(VkSemaphoreGetFdInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkSemaphoreGetFdInfoKHR.Buffer getHandleType(int[] dst) { gather(VkSemaphoreGetFdInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSemaphoreGetFdInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkSemaphoreGetFdInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetFdInfoKHR.Buffer putSType(int[] src) { scatter(VkSemaphoreGetFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetFdInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkSemaphoreGetFdInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkSemaphoreGetFdInfoKHR.Buffer putSemaphore(long[] src) { scatter(VkSemaphoreGetFdInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkSemaphoreGetFdInfoKHR.Buffer putSemaphore(LongBuffer src) { scatter(VkSemaphoreGetFdInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetFdInfoKHR.Buffer putHandleType(int[] src) { scatter(VkSemaphoreGetFdInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetFdInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkSemaphoreGetFdInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
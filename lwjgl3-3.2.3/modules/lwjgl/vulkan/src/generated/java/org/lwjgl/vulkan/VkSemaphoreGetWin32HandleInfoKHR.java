@@ -262,6 +262,24 @@ public class VkSemaphoreGetWin32HandleInfoKHR extends Struct implements NativeRe
         return wrap(VkSemaphoreGetWin32HandleInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSemaphoreGetWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSemaphoreGetWin32HandleInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkSemaphoreGetWin32HandleInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSemaphoreGetWin32HandleInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSemaphoreGetWin32HandleInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkSemaphoreGetWin32HandleInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSemaphoreGetWin32HandleInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -300,6 +318,26 @@ public class VkSemaphoreGetWin32HandleInfoKHR extends Struct implements NativeRe
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSemaphoreGetWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSemaphoreGetWin32HandleInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSemaphoreGetWin32HandleInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSemaphoreGetWin32HandleInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -380,6 +418,32 @@ public class VkSemaphoreGetWin32HandleInfoKHR extends Struct implements NativeRe
         /** Sets the specified value to the {@code handleType} field. */
         public VkSemaphoreGetWin32HandleInfoKHR.Buffer handleType(@NativeType("VkExternalSemaphoreHandleTypeFlagBits") int value) { VkSemaphoreGetWin32HandleInfoKHR.nhandleType(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer getSType(int[] dst) { gather(VkSemaphoreGetWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkSemaphoreGetWin32HandleInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified array. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer getSemaphore(long[] dst) { gather(VkSemaphoreGetWin32HandleInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code semaphore} field of the structs between the current position and limit to the specified buffer. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer getSemaphore(LongBuffer dst) { gather(VkSemaphoreGetWin32HandleInfoKHR.SEMAPHORE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified array. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer getHandleType(int[] dst) { gather(VkSemaphoreGetWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+        /** Copies the {@code handleType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer getHandleType(IntBuffer dst) { gather(VkSemaphoreGetWin32HandleInfoKHR.HANDLETYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer putSType(int[] src) { scatter(VkSemaphoreGetWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkSemaphoreGetWin32HandleInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer putSemaphore(long[] src) { scatter(VkSemaphoreGetWin32HandleInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code semaphore} field of the structs between the current position and limit. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer putSemaphore(LongBuffer src) { scatter(VkSemaphoreGetWin32HandleInfoKHR.SEMAPHORE, src); return this; }
+        /** Copies the values in the specified array to the {@code handleType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer putHandleType(int[] src) { scatter(VkSemaphoreGetWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code handleType} field of the structs between the current position and limit. */
+        public VkSemaphoreGetWin32HandleInfoKHR.Buffer putHandleType(IntBuffer src) { scatter(VkSemaphoreGetWin32HandleInfoKHR.HANDLETYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
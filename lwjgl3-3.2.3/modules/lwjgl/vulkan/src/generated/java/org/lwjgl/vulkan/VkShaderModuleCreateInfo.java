@@ -269,6 +269,24 @@ public class VkShaderModuleCreateInfo extends Struct implements NativeResource {
         return wrap(VkShaderModuleCreateInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkShaderModuleCreateInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkShaderModuleCreateInfo malloc(MemoryArena arena) {
+        return wrap(VkShaderModuleCreateInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkShaderModuleCreateInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkShaderModuleCreateInfo calloc(MemoryArena arena) {
+        return wrap(VkShaderModuleCreateInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkShaderModuleCreateInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class VkShaderModuleCreateInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkShaderModuleCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkShaderModuleCreateInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkShaderModuleCreateInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkShaderModuleCreateInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -415,6 +453,24 @@ public class VkShaderModuleCreateInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pCode} field. */
         public VkShaderModuleCreateInfo.Buffer pCode(@NativeType("uint32_t const *") ByteBuffer value) { VkShaderModuleCreateInfo.npCode(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkShaderModuleCreateInfo.Buffer getSType(int[] dst) { gather(VkShaderModuleCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderModuleCreateInfo.Buffer getSType(IntBuffer dst) { gather(VkShaderModuleCreateInfo.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkShaderModuleCreateInfo.Buffer getFlags(int[] dst) { gather(VkShaderModuleCreateInfo.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderModuleCreateInfo.Buffer getFlags(IntBuffer dst) { gather(VkShaderModuleCreateInfo.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkShaderModuleCreateInfo.Buffer putSType(int[] src) { scatter(VkShaderModuleCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkShaderModuleCreateInfo.Buffer putSType(IntBuffer src) { scatter(VkShaderModuleCreateInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkShaderModuleCreateInfo.Buffer putFlags(int[] src) { scatter(VkShaderModuleCreateInfo.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkShaderModuleCreateInfo.Buffer putFlags(IntBuffer src) { scatter(VkShaderModuleCreateInfo.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
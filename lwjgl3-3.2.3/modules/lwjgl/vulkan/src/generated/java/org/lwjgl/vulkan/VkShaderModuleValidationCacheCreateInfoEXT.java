@@ -229,6 +229,24 @@ public class VkShaderModuleValidationCacheCreateInfoEXT extends Struct implement
         return wrap(VkShaderModuleValidationCacheCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkShaderModuleValidationCacheCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkShaderModuleValidationCacheCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkShaderModuleValidationCacheCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkShaderModuleValidationCacheCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkShaderModuleValidationCacheCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkShaderModuleValidationCacheCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkShaderModuleValidationCacheCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkShaderModuleValidationCacheCreateInfoEXT extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkShaderModuleValidationCacheCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkShaderModuleValidationCacheCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkShaderModuleValidationCacheCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkShaderModuleValidationCacheCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -338,6 +376,24 @@ public class VkShaderModuleValidationCacheCreateInfoEXT extends Struct implement
         /** Sets the specified value to the {@code validationCache} field. */
         public VkShaderModuleValidationCacheCreateInfoEXT.Buffer validationCache(@NativeType("VkValidationCacheEXT") long value) { VkShaderModuleValidationCacheCreateInfoEXT.nvalidationCache(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkShaderModuleValidationCacheCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkShaderModuleValidationCacheCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code validationCache} field of the structs between the current position and limit to the specified array. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer getValidationCache(long[] dst) { gather(VkShaderModuleValidationCacheCreateInfoEXT.VALIDATIONCACHE, dst); return this; }
+        /** Copies the {@code validationCache} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer getValidationCache(LongBuffer dst) { gather(VkShaderModuleValidationCacheCreateInfoEXT.VALIDATIONCACHE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkShaderModuleValidationCacheCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkShaderModuleValidationCacheCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code validationCache} field of the structs between the current position and limit. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer putValidationCache(long[] src) { scatter(VkShaderModuleValidationCacheCreateInfoEXT.VALIDATIONCACHE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code validationCache} field of the structs between the current position and limit. */
+        public VkShaderModuleValidationCacheCreateInfoEXT.Buffer putValidationCache(LongBuffer src) { scatter(VkShaderModuleValidationCacheCreateInfoEXT.VALIDATIONCACHE, src); return this; }
+
     }
 
 }
\ No newline at end of file
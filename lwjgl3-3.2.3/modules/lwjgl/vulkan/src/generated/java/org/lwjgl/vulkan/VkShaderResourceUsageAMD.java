@@ -197,6 +197,19 @@ public class VkShaderResourceUsageAMD extends Struct {
         @NativeType("size_t")
         public long scratchMemUsageInBytes() { return VkShaderResourceUsageAMD.nscratchMemUsageInBytes(address()); }
 
+        /** Copies the {@code numUsedVgprs} field of the structs between the current position and limit to the specified array. */
+        public VkShaderResourceUsageAMD.Buffer getNumUsedVgprs(int[] dst) { gather(VkShaderResourceUsageAMD.NUMUSEDVGPRS, dst); return this; }
+        /** Copies the {@code numUsedVgprs} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderResourceUsageAMD.Buffer getNumUsedVgprs(IntBuffer dst) { gather(VkShaderResourceUsageAMD.NUMUSEDVGPRS, dst); return this; }
+        /** Copies the {@code numUsedSgprs} field of the structs between the current position and limit to the specified array. */
+        public VkShaderResourceUsageAMD.Buffer getNumUsedSgprs(int[] dst) { gather(VkShaderResourceUsageAMD.NUMUSEDSGPRS, dst); return this; }
+        /** Copies the {@code numUsedSgprs} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderResourceUsageAMD.Buffer getNumUsedSgprs(IntBuffer dst) { gather(VkShaderResourceUsageAMD.NUMUSEDSGPRS, dst); return this; }
+        /** Copies the {@code ldsSizePerLocalWorkGroup} field of the structs between the current position and limit to the specified array. */
+        public VkShaderResourceUsageAMD.Buffer getLdsSizePerLocalWorkGroup(int[] dst) { gather(VkShaderResourceUsageAMD.LDSSIZEPERLOCALWORKGROUP, dst); return this; }
+        /** Copies the {@code ldsSizePerLocalWorkGroup} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderResourceUsageAMD.Buffer getLdsSizePerLocalWorkGroup(IntBuffer dst) { gather(VkShaderResourceUsageAMD.LDSSIZEPERLOCALWORKGROUP, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -242,6 +242,27 @@ public class VkShaderStatisticsInfoAMD extends Struct {
         @NativeType("uint32_t")
         public int computeWorkGroupSize(int index) { return VkShaderStatisticsInfoAMD.ncomputeWorkGroupSize(address(), index); }
 
+        /** Copies the {@code shaderStageMask} field of the structs between the current position and limit to the specified array. */
+        public VkShaderStatisticsInfoAMD.Buffer getShaderStageMask(int[] dst) { gather(VkShaderStatisticsInfoAMD.SHADERSTAGEMASK, dst); return this; }
+        /** Copies the {@code shaderStageMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderStatisticsInfoAMD.Buffer getShaderStageMask(IntBuffer dst) { gather(VkShaderStatisticsInfoAMD.SHADERSTAGEMASK, dst); return this; }
+        /** Copies the {@code numPhysicalVgprs} field of the structs between the current position and limit to the specified array. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumPhysicalVgprs(int[] dst) { gather(VkShaderStatisticsInfoAMD.NUMPHYSICALVGPRS, dst); return this; }
+        /** Copies the {@code numPhysicalVgprs} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumPhysicalVgprs(IntBuffer dst) { gather(VkShaderStatisticsInfoAMD.NUMPHYSICALVGPRS, dst); return this; }
+        /** Copies the {@code numPhysicalSgprs} field of the structs between the current position and limit to the specified array. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumPhysicalSgprs(int[] dst) { gather(VkShaderStatisticsInfoAMD.NUMPHYSICALSGPRS, dst); return this; }
+        /** Copies the {@code numPhysicalSgprs} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumPhysicalSgprs(IntBuffer dst) { gather(VkShaderStatisticsInfoAMD.NUMPHYSICALSGPRS, dst); return this; }
+        /** Copies the {@code numAvailableVgprs} field of the structs between the current position and limit to the specified array. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumAvailableVgprs(int[] dst) { gather(VkShaderStatisticsInfoAMD.NUMAVAILABLEVGPRS, dst); return this; }
+        /** Copies the {@code numAvailableVgprs} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumAvailableVgprs(IntBuffer dst) { gather(VkShaderStatisticsInfoAMD.NUMAVAILABLEVGPRS, dst); return this; }
+        /** Copies the {@code numAvailableSgprs} field of the structs between the current position and limit to the specified array. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumAvailableSgprs(int[] dst) { gather(VkShaderStatisticsInfoAMD.NUMAVAILABLESGPRS, dst); return this; }
+        /** Copies the {@code numAvailableSgprs} field of the structs between the current position and limit to the specified buffer. */
+        public VkShaderStatisticsInfoAMD.Buffer getNumAvailableSgprs(IntBuffer dst) { gather(VkShaderStatisticsInfoAMD.NUMAVAILABLESGPRS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -215,6 +215,24 @@ public class VkShadingRatePaletteNV extends Struct implements NativeResource {
         return wrap(VkShadingRatePaletteNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkShadingRatePaletteNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkShadingRatePaletteNV malloc(MemoryArena arena) {
+        return wrap(VkShadingRatePaletteNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkShadingRatePaletteNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkShadingRatePaletteNV calloc(MemoryArena arena) {
+        return wrap(VkShadingRatePaletteNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkShadingRatePaletteNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -253,6 +271,26 @@ public class VkShadingRatePaletteNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkShadingRatePaletteNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkShadingRatePaletteNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkShadingRatePaletteNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkShadingRatePaletteNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #shadingRatePaletteEntryCount}. */
@@ -334,6 +372,11 @@ public class VkShadingRatePaletteNV extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pShadingRatePaletteEntries} field. */
         public VkShadingRatePaletteNV.Buffer pShadingRatePaletteEntries(@NativeType("VkShadingRatePaletteEntryNV const *") IntBuffer value) { VkShadingRatePaletteNV.npShadingRatePaletteEntries(address(), value); return this; }
 
+        /** Copies the {@code shadingRatePaletteEntryCount} field of the structs between the current position and limit to the specified array. */
+        public VkShadingRatePaletteNV.Buffer getShadingRatePaletteEntryCount(int[] dst) { gather(VkShadingRatePaletteNV.SHADINGRATEPALETTEENTRYCOUNT, dst); return this; }
+        /** Copies the {@code shadingRatePaletteEntryCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkShadingRatePaletteNV.Buffer getShadingRatePaletteEntryCount(IntBuffer dst) { gather(VkShadingRatePaletteNV.SHADINGRATEPALETTEENTRYCOUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
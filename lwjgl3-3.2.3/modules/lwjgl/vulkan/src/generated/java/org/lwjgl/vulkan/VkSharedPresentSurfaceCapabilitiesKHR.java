@@ -224,6 +224,24 @@ public class VkSharedPresentSurfaceCapabilitiesKHR extends Struct implements Nat
         return wrap(VkSharedPresentSurfaceCapabilitiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSharedPresentSurfaceCapabilitiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSharedPresentSurfaceCapabilitiesKHR malloc(MemoryArena arena) {
+        return wrap(VkSharedPresentSurfaceCapabilitiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSharedPresentSurfaceCapabilitiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSharedPresentSurfaceCapabilitiesKHR calloc(MemoryArena arena) {
+        return wrap(VkSharedPresentSurfaceCapabilitiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSharedPresentSurfaceCapabilitiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkSharedPresentSurfaceCapabilitiesKHR extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSharedPresentSurfaceCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSharedPresentSurfaceCapabilitiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSharedPresentSurfaceCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSharedPresentSurfaceCapabilitiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -329,6 +367,20 @@ public class VkSharedPresentSurfaceCapabilitiesKHR extends Struct implements Nat
         /** Sets the specified value to the {@code pNext} field. */
         public VkSharedPresentSurfaceCapabilitiesKHR.Buffer pNext(@NativeType("void *") long value) { VkSharedPresentSurfaceCapabilitiesKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSharedPresentSurfaceCapabilitiesKHR.Buffer getSType(int[] dst) { gather(VkSharedPresentSurfaceCapabilitiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSharedPresentSurfaceCapabilitiesKHR.Buffer getSType(IntBuffer dst) { gather(VkSharedPresentSurfaceCapabilitiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sharedPresentSupportedUsageFlags} field of the structs between the current position and limit to the specified array. */
+        public VkSharedPresentSurfaceCapabilitiesKHR.Buffer getSharedPresentSupportedUsageFlags(int[] dst) { gather(VkSharedPresentSurfaceCapabilitiesKHR.SHAREDPRESENTSUPPORTEDUSAGEFLAGS, dst); return this; }
+        /** Copies the {@code sharedPresentSupportedUsageFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSharedPresentSurfaceCapabilitiesKHR.Buffer getSharedPresentSupportedUsageFlags(IntBuffer dst) { gather(VkSharedPresentSurfaceCapabilitiesKHR.SHAREDPRESENTSUPPORTEDUSAGEFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSharedPresentSurfaceCapabilitiesKHR.Buffer putSType(int[] src) { scatter(VkSharedPresentSurfaceCapabilitiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSharedPresentSurfaceCapabilitiesKHR.Buffer putSType(IntBuffer src) { scatter(VkSharedPresentSurfaceCapabilitiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
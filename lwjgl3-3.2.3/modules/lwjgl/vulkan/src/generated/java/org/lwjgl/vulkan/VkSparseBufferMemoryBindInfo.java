@@ -231,6 +231,24 @@ public class VkSparseBufferMemoryBindInfo extends Struct implements NativeResour
         return wrap(VkSparseBufferMemoryBindInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseBufferMemoryBindInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseBufferMemoryBindInfo malloc(MemoryArena arena) {
+        return wrap(VkSparseBufferMemoryBindInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseBufferMemoryBindInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseBufferMemoryBindInfo calloc(MemoryArena arena) {
+        return wrap(VkSparseBufferMemoryBindInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseBufferMemoryBindInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class VkSparseBufferMemoryBindInfo extends Struct implements NativeResour
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseBufferMemoryBindInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseBufferMemoryBindInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseBufferMemoryBindInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseBufferMemoryBindInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #buffer}. */
@@ -359,6 +397,20 @@ public class VkSparseBufferMemoryBindInfo extends Struct implements NativeResour
         /** Sets the address of the specified {@link VkSparseMemoryBind.Buffer} to the {@code pBinds} field. */
         public VkSparseBufferMemoryBindInfo.Buffer pBinds(@NativeType("VkSparseMemoryBind const *") VkSparseMemoryBind.Buffer value) { VkSparseBufferMemoryBindInfo.npBinds(address(), value); return this; }
 
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified array. */
+        public VkSparseBufferMemoryBindInfo.Buffer getBuffer(long[] dst) { gather(VkSparseBufferMemoryBindInfo.BUFFER, dst); return this; }
+        /** Copies the {@code buffer} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseBufferMemoryBindInfo.Buffer getBuffer(LongBuffer dst) { gather(VkSparseBufferMemoryBindInfo.BUFFER, dst); return this; }
+        /** Copies the {@code bindCount} field of the structs between the current position and limit to the specified array. */
+        public VkSparseBufferMemoryBindInfo.Buffer getBindCount(int[] dst) { gather(VkSparseBufferMemoryBindInfo.BINDCOUNT, dst); return this; }
+        /** Copies the {@code bindCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseBufferMemoryBindInfo.Buffer getBindCount(IntBuffer dst) { gather(VkSparseBufferMemoryBindInfo.BINDCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code buffer} field of the structs between the current position and limit. */
+        public VkSparseBufferMemoryBindInfo.Buffer putBuffer(long[] src) { scatter(VkSparseBufferMemoryBindInfo.BUFFER, src); return this; }
+        /** Copies the values in the specified buffer to the {@code buffer} field of the structs between the current position and limit. */
+        public VkSparseBufferMemoryBindInfo.Buffer putBuffer(LongBuffer src) { scatter(VkSparseBufferMemoryBindInfo.BUFFER, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -189,6 +189,24 @@ public class VkSparseImageFormatProperties extends Struct implements NativeResou
         return wrap(VkSparseImageFormatProperties.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseImageFormatProperties} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageFormatProperties malloc(MemoryArena arena) {
+        return wrap(VkSparseImageFormatProperties.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseImageFormatProperties} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageFormatProperties calloc(MemoryArena arena) {
+        return wrap(VkSparseImageFormatProperties.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseImageFormatProperties.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -227,6 +245,26 @@ public class VkSparseImageFormatProperties extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageFormatProperties.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseImageFormatProperties.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageFormatProperties.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #aspectMask}. */
@@ -283,6 +321,15 @@ public class VkSparseImageFormatProperties extends Struct implements NativeResou
         @NativeType("VkSparseImageFormatFlags")
         public int flags() { return VkSparseImageFormatProperties.nflags(address()); }
 
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageFormatProperties.Buffer getAspectMask(int[] dst) { gather(VkSparseImageFormatProperties.ASPECTMASK, dst); return this; }
+        /** Copies the {@code aspectMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageFormatProperties.Buffer getAspectMask(IntBuffer dst) { gather(VkSparseImageFormatProperties.ASPECTMASK, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageFormatProperties.Buffer getFlags(int[] dst) { gather(VkSparseImageFormatProperties.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageFormatProperties.Buffer getFlags(IntBuffer dst) { gather(VkSparseImageFormatProperties.FLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
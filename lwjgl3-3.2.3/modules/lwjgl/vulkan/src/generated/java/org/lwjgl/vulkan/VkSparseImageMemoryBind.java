@@ -289,6 +289,24 @@ public class VkSparseImageMemoryBind extends Struct implements NativeResource {
         return wrap(VkSparseImageMemoryBind.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseImageMemoryBind} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBind malloc(MemoryArena arena) {
+        return wrap(VkSparseImageMemoryBind.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseImageMemoryBind} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBind calloc(MemoryArena arena) {
+        return wrap(VkSparseImageMemoryBind.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseImageMemoryBind.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -327,6 +345,26 @@ public class VkSparseImageMemoryBind extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseImageMemoryBind.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBind.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseImageMemoryBind.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBind.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #subresource}. */
@@ -428,6 +466,32 @@ public class VkSparseImageMemoryBind extends Struct implements NativeResource {
         /** Sets the specified value to the {@code flags} field. */
         public VkSparseImageMemoryBind.Buffer flags(@NativeType("VkSparseMemoryBindFlags") int value) { VkSparseImageMemoryBind.nflags(address(), value); return this; }
 
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryBind.Buffer getMemory(long[] dst) { gather(VkSparseImageMemoryBind.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryBind.Buffer getMemory(LongBuffer dst) { gather(VkSparseImageMemoryBind.MEMORY, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryBind.Buffer getMemoryOffset(long[] dst) { gather(VkSparseImageMemoryBind.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryBind.Buffer getMemoryOffset(LongBuffer dst) { gather(VkSparseImageMemoryBind.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryBind.Buffer getFlags(int[] dst) { gather(VkSparseImageMemoryBind.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryBind.Buffer getFlags(IntBuffer dst) { gather(VkSparseImageMemoryBind.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBind.Buffer putMemory(long[] src) { scatter(VkSparseImageMemoryBind.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBind.Buffer putMemory(LongBuffer src) { scatter(VkSparseImageMemoryBind.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBind.Buffer putMemoryOffset(long[] src) { scatter(VkSparseImageMemoryBind.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBind.Buffer putMemoryOffset(LongBuffer src) { scatter(VkSparseImageMemoryBind.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBind.Buffer putFlags(int[] src) { scatter(VkSparseImageMemoryBind.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBind.Buffer putFlags(IntBuffer src) { scatter(VkSparseImageMemoryBind.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
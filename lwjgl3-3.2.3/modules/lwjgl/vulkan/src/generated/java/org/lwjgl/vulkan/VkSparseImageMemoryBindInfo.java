@@ -238,6 +238,24 @@ public class VkSparseImageMemoryBindInfo extends Struct implements NativeResourc
         return wrap(VkSparseImageMemoryBindInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseImageMemoryBindInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBindInfo malloc(MemoryArena arena) {
+        return wrap(VkSparseImageMemoryBindInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseImageMemoryBindInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBindInfo calloc(MemoryArena arena) {
+        return wrap(VkSparseImageMemoryBindInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseImageMemoryBindInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class VkSparseImageMemoryBindInfo extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseImageMemoryBindInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBindInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseImageMemoryBindInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageMemoryBindInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #image}. */
@@ -366,6 +404,20 @@ public class VkSparseImageMemoryBindInfo extends Struct implements NativeResourc
         /** Sets the address of the specified {@link VkSparseImageMemoryBind.Buffer} to the {@code pBinds} field. */
         public VkSparseImageMemoryBindInfo.Buffer pBinds(@NativeType("VkSparseImageMemoryBind const *") VkSparseImageMemoryBind.Buffer value) { VkSparseImageMemoryBindInfo.npBinds(address(), value); return this; }
 
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryBindInfo.Buffer getImage(long[] dst) { gather(VkSparseImageMemoryBindInfo.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryBindInfo.Buffer getImage(LongBuffer dst) { gather(VkSparseImageMemoryBindInfo.IMAGE, dst); return this; }
+        /** Copies the {@code bindCount} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryBindInfo.Buffer getBindCount(int[] dst) { gather(VkSparseImageMemoryBindInfo.BINDCOUNT, dst); return this; }
+        /** Copies the {@code bindCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryBindInfo.Buffer getBindCount(IntBuffer dst) { gather(VkSparseImageMemoryBindInfo.BINDCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBindInfo.Buffer putImage(long[] src) { scatter(VkSparseImageMemoryBindInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkSparseImageMemoryBindInfo.Buffer putImage(LongBuffer src) { scatter(VkSparseImageMemoryBindInfo.IMAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -215,6 +215,24 @@ public class VkSparseImageMemoryRequirements extends Struct implements NativeRes
         return wrap(VkSparseImageMemoryRequirements.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseImageMemoryRequirements} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageMemoryRequirements malloc(MemoryArena arena) {
+        return wrap(VkSparseImageMemoryRequirements.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseImageMemoryRequirements} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageMemoryRequirements calloc(MemoryArena arena) {
+        return wrap(VkSparseImageMemoryRequirements.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseImageMemoryRequirements.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -253,6 +271,26 @@ public class VkSparseImageMemoryRequirements extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseImageMemoryRequirements.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageMemoryRequirements.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseImageMemoryRequirements.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageMemoryRequirements.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #formatProperties}. */
@@ -319,6 +357,23 @@ public class VkSparseImageMemoryRequirements extends Struct implements NativeRes
         @NativeType("VkDeviceSize")
         public long imageMipTailStride() { return VkSparseImageMemoryRequirements.nimageMipTailStride(address()); }
 
+        /** Copies the {@code imageMipTailFirstLod} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailFirstLod(int[] dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILFIRSTLOD, dst); return this; }
+        /** Copies the {@code imageMipTailFirstLod} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailFirstLod(IntBuffer dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILFIRSTLOD, dst); return this; }
+        /** Copies the {@code imageMipTailSize} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailSize(long[] dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILSIZE, dst); return this; }
+        /** Copies the {@code imageMipTailSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailSize(LongBuffer dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILSIZE, dst); return this; }
+        /** Copies the {@code imageMipTailOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailOffset(long[] dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILOFFSET, dst); return this; }
+        /** Copies the {@code imageMipTailOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailOffset(LongBuffer dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILOFFSET, dst); return this; }
+        /** Copies the {@code imageMipTailStride} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailStride(long[] dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILSTRIDE, dst); return this; }
+        /** Copies the {@code imageMipTailStride} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageMemoryRequirements.Buffer getImageMipTailStride(LongBuffer dst) { gather(VkSparseImageMemoryRequirements.IMAGEMIPTAILSTRIDE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -237,6 +237,24 @@ public class VkSparseImageOpaqueMemoryBindInfo extends Struct implements NativeR
         return wrap(VkSparseImageOpaqueMemoryBindInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseImageOpaqueMemoryBindInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageOpaqueMemoryBindInfo malloc(MemoryArena arena) {
+        return wrap(VkSparseImageOpaqueMemoryBindInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseImageOpaqueMemoryBindInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseImageOpaqueMemoryBindInfo calloc(MemoryArena arena) {
+        return wrap(VkSparseImageOpaqueMemoryBindInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseImageOpaqueMemoryBindInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -275,6 +293,26 @@ public class VkSparseImageOpaqueMemoryBindInfo extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseImageOpaqueMemoryBindInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageOpaqueMemoryBindInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseImageOpaqueMemoryBindInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseImageOpaqueMemoryBindInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #image}. */
@@ -365,6 +403,20 @@ public class VkSparseImageOpaqueMemoryBindInfo extends Struct implements NativeR
         /** Sets the address of the specified {@link VkSparseMemoryBind.Buffer} to the {@code pBinds} field. */
         public VkSparseImageOpaqueMemoryBindInfo.Buffer pBinds(@NativeType("VkSparseMemoryBind const *") VkSparseMemoryBind.Buffer value) { VkSparseImageOpaqueMemoryBindInfo.npBinds(address(), value); return this; }
 
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageOpaqueMemoryBindInfo.Buffer getImage(long[] dst) { gather(VkSparseImageOpaqueMemoryBindInfo.IMAGE, dst); return this; }
+        /** Copies the {@code image} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageOpaqueMemoryBindInfo.Buffer getImage(LongBuffer dst) { gather(VkSparseImageOpaqueMemoryBindInfo.IMAGE, dst); return this; }
+        /** Copies the {@code bindCount} field of the structs between the current position and limit to the specified array. */
+        public VkSparseImageOpaqueMemoryBindInfo.Buffer getBindCount(int[] dst) { gather(VkSparseImageOpaqueMemoryBindInfo.BINDCOUNT, dst); return this; }
+        /** Copies the {@code bindCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseImageOpaqueMemoryBindInfo.Buffer getBindCount(IntBuffer dst) { gather(VkSparseImageOpaqueMemoryBindInfo.BINDCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code image} field of the structs between the current position and limit. */
+        public VkSparseImageOpaqueMemoryBindInfo.Buffer putImage(long[] src) { scatter(VkSparseImageOpaqueMemoryBindInfo.IMAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code image} field of the structs between the current position and limit. */
+        public VkSparseImageOpaqueMemoryBindInfo.Buffer putImage(LongBuffer src) { scatter(VkSparseImageOpaqueMemoryBindInfo.IMAGE, src); return this; }
+
     }
 
 }
\ No newline at end of file
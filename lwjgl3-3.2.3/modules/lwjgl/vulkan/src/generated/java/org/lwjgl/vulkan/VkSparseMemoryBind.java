@@ -286,6 +286,24 @@ public class VkSparseMemoryBind extends Struct implements NativeResource {
         return wrap(VkSparseMemoryBind.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSparseMemoryBind} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseMemoryBind malloc(MemoryArena arena) {
+        return wrap(VkSparseMemoryBind.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSparseMemoryBind} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSparseMemoryBind calloc(MemoryArena arena) {
+        return wrap(VkSparseMemoryBind.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSparseMemoryBind.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -324,6 +342,26 @@ public class VkSparseMemoryBind extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSparseMemoryBind.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseMemoryBind.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSparseMemoryBind.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSparseMemoryBind.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #resourceOffset}. */
@@ -413,6 +451,48 @@ public class VkSparseMemoryBind extends Struct implements NativeResource {
         /** Sets the specified value to the {@code flags} field. */
         public VkSparseMemoryBind.Buffer flags(@NativeType("VkSparseMemoryBindFlags") int value) { VkSparseMemoryBind.nflags(address(), value); return this; }
 
+        /** Copies the {@code resourceOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSparseMemoryBind.Buffer getResourceOffset(long[] dst) { gather(VkSparseMemoryBind.RESOURCEOFFSET, dst); return this; }
+        /** Copies the {@code resourceOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseMemoryBind.Buffer getResourceOffset(LongBuffer dst) { gather(VkSparseMemoryBind.RESOURCEOFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkSparseMemoryBind.Buffer getSize(long[] dst) { gather(VkSparseMemoryBind.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseMemoryBind.Buffer getSize(LongBuffer dst) { gather(VkSparseMemoryBind.SIZE, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified array. */
+        public VkSparseMemoryBind.Buffer getMemory(long[] dst) { gather(VkSparseMemoryBind.MEMORY, dst); return this; }
+        /** Copies the {@code memory} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseMemoryBind.Buffer getMemory(LongBuffer dst) { gather(VkSparseMemoryBind.MEMORY, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSparseMemoryBind.Buffer getMemoryOffset(long[] dst) { gather(VkSparseMemoryBind.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code memoryOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseMemoryBind.Buffer getMemoryOffset(LongBuffer dst) { gather(VkSparseMemoryBind.MEMORYOFFSET, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSparseMemoryBind.Buffer getFlags(int[] dst) { gather(VkSparseMemoryBind.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSparseMemoryBind.Buffer getFlags(IntBuffer dst) { gather(VkSparseMemoryBind.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code resourceOffset} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putResourceOffset(long[] src) { scatter(VkSparseMemoryBind.RESOURCEOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code resourceOffset} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putResourceOffset(LongBuffer src) { scatter(VkSparseMemoryBind.RESOURCEOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code size} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putSize(long[] src) { scatter(VkSparseMemoryBind.SIZE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code size} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putSize(LongBuffer src) { scatter(VkSparseMemoryBind.SIZE, src); return this; }
+        /** Copies the values in the specified array to the {@code memory} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putMemory(long[] src) { scatter(VkSparseMemoryBind.MEMORY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memory} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putMemory(LongBuffer src) { scatter(VkSparseMemoryBind.MEMORY, src); return this; }
+        /** Copies the values in the specified array to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putMemoryOffset(long[] src) { scatter(VkSparseMemoryBind.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code memoryOffset} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putMemoryOffset(LongBuffer src) { scatter(VkSparseMemoryBind.MEMORYOFFSET, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putFlags(int[] src) { scatter(VkSparseMemoryBind.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkSparseMemoryBind.Buffer putFlags(IntBuffer src) { scatter(VkSparseMemoryBind.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -251,6 +251,24 @@ public class VkSpecializationInfo extends Struct implements NativeResource {
         return wrap(VkSpecializationInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSpecializationInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSpecializationInfo malloc(MemoryArena arena) {
+        return wrap(VkSpecializationInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSpecializationInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSpecializationInfo calloc(MemoryArena arena) {
+        return wrap(VkSpecializationInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSpecializationInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -289,6 +307,26 @@ public class VkSpecializationInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSpecializationInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSpecializationInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSpecializationInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSpecializationInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #mapEntryCount}. */
@@ -393,6 +431,11 @@ public class VkSpecializationInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pData} field. */
         public VkSpecializationInfo.Buffer pData(@Nullable @NativeType("void const *") ByteBuffer value) { VkSpecializationInfo.npData(address(), value); return this; }
 
+        /** Copies the {@code mapEntryCount} field of the structs between the current position and limit to the specified array. */
+        public VkSpecializationInfo.Buffer getMapEntryCount(int[] dst) { gather(VkSpecializationInfo.MAPENTRYCOUNT, dst); return this; }
+        /** Copies the {@code mapEntryCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSpecializationInfo.Buffer getMapEntryCount(IntBuffer dst) { gather(VkSpecializationInfo.MAPENTRYCOUNT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
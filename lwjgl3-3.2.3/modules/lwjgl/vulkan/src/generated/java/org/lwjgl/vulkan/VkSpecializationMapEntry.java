@@ -236,6 +236,24 @@ public class VkSpecializationMapEntry extends Struct implements NativeResource {
         return wrap(VkSpecializationMapEntry.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSpecializationMapEntry} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSpecializationMapEntry malloc(MemoryArena arena) {
+        return wrap(VkSpecializationMapEntry.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSpecializationMapEntry} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSpecializationMapEntry calloc(MemoryArena arena) {
+        return wrap(VkSpecializationMapEntry.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSpecializationMapEntry.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -274,6 +292,26 @@ public class VkSpecializationMapEntry extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSpecializationMapEntry.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSpecializationMapEntry.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSpecializationMapEntry.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSpecializationMapEntry.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #constantID}. */
@@ -345,6 +383,24 @@ public class VkSpecializationMapEntry extends Struct implements NativeResource {
         /** Sets the specified value to the {@code size} field. */
         public VkSpecializationMapEntry.Buffer size(@NativeType("size_t") long value) { VkSpecializationMapEntry.nsize(address(), value); return this; }
 
+        /** Copies the {@code constantID} field of the structs between the current position and limit to the specified array. */
+        public VkSpecializationMapEntry.Buffer getConstantID(int[] dst) { gather(VkSpecializationMapEntry.CONSTANTID, dst); return this; }
+        /** Copies the {@code constantID} field of the structs between the current position and limit to the specified buffer. */
+        public VkSpecializationMapEntry.Buffer getConstantID(IntBuffer dst) { gather(VkSpecializationMapEntry.CONSTANTID, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkSpecializationMapEntry.Buffer getOffset(int[] dst) { gather(VkSpecializationMapEntry.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSpecializationMapEntry.Buffer getOffset(IntBuffer dst) { gather(VkSpecializationMapEntry.OFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code constantID} field of the structs between the current position and limit. */
+        public VkSpecializationMapEntry.Buffer putConstantID(int[] src) { scatter(VkSpecializationMapEntry.CONSTANTID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code constantID} field of the structs between the current position and limit. */
+        public VkSpecializationMapEntry.Buffer putConstantID(IntBuffer src) { scatter(VkSpecializationMapEntry.CONSTANTID, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkSpecializationMapEntry.Buffer putOffset(int[] src) { scatter(VkSpecializationMapEntry.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkSpecializationMapEntry.Buffer putOffset(IntBuffer src) { scatter(VkSpecializationMapEntry.OFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -283,6 +283,24 @@ public class VkStencilOpState extends Struct implements NativeResource {
         return wrap(VkStencilOpState.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkStencilOpState} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkStencilOpState malloc(MemoryArena arena) {
+        return wrap(VkStencilOpState.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkStencilOpState} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkStencilOpState calloc(MemoryArena arena) {
+        return wrap(VkStencilOpState.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkStencilOpState.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -321,6 +339,26 @@ public class VkStencilOpState extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkStencilOpState.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkStencilOpState.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkStencilOpState.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkStencilOpState.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #failOp}. */
@@ -428,6 +466,64 @@ public class VkStencilOpState extends Struct implements NativeResource {
         /** Sets the specified value to the {@code reference} field. */
         public VkStencilOpState.Buffer reference(@NativeType("uint32_t") int value) { VkStencilOpState.nreference(address(), value); return this; }
 
+        /** Copies the {@code failOp} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getFailOp(int[] dst) { gather(VkStencilOpState.FAILOP, dst); return this; }
+        /** Copies the {@code failOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getFailOp(IntBuffer dst) { gather(VkStencilOpState.FAILOP, dst); return this; }
+        /** Copies the {@code passOp} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getPassOp(int[] dst) { gather(VkStencilOpState.PASSOP, dst); return this; }
+        /** Copies the {@code passOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getPassOp(IntBuffer dst) { gather(VkStencilOpState.PASSOP, dst); return this; }
+        /** Copies the {@code depthFailOp} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getDepthFailOp(int[] dst) { gather(VkStencilOpState.DEPTHFAILOP, dst); return this; }
+        /** Copies the {@code depthFailOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getDepthFailOp(IntBuffer dst) { gather(VkStencilOpState.DEPTHFAILOP, dst); return this; }
+        /** Copies the {@code compareOp} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getCompareOp(int[] dst) { gather(VkStencilOpState.COMPAREOP, dst); return this; }
+        /** Copies the {@code compareOp} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getCompareOp(IntBuffer dst) { gather(VkStencilOpState.COMPAREOP, dst); return this; }
+        /** Copies the {@code compareMask} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getCompareMask(int[] dst) { gather(VkStencilOpState.COMPAREMASK, dst); return this; }
+        /** Copies the {@code compareMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getCompareMask(IntBuffer dst) { gather(VkStencilOpState.COMPAREMASK, dst); return this; }
+        /** Copies the {@code writeMask} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getWriteMask(int[] dst) { gather(VkStencilOpState.WRITEMASK, dst); return this; }
+        /** Copies the {@code writeMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getWriteMask(IntBuffer dst) { gather(VkStencilOpState.WRITEMASK, dst); return this; }
+        /** Copies the {@code reference} field of the structs between the current position and limit to the specified array. */
+        public VkStencilOpState.Buffer getReference(int[] dst) { gather(VkStencilOpState.REFERENCE, dst); return this; }
+        /** Copies the {@code reference} field of the structs between the current position and limit to the specified buffer. */
+        public VkStencilOpState.Buffer getReference(IntBuffer dst) { gather(VkStencilOpState.REFERENCE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code failOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putFailOp(int[] src) { scatter(VkStencilOpState.FAILOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code failOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putFailOp(IntBuffer src) { scatter(VkStencilOpState.FAILOP, src); return this; }
+        /** Copies the values in the specified array to the {@code passOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putPassOp(int[] src) { scatter(VkStencilOpState.PASSOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code passOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putPassOp(IntBuffer src) { scatter(VkStencilOpState.PASSOP, src); return this; }
+        /** Copies the values in the specified array to the {@code depthFailOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putDepthFailOp(int[] src) { scatter(VkStencilOpState.DEPTHFAILOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depthFailOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putDepthFailOp(IntBuffer src) { scatter(VkStencilOpState.DEPTHFAILOP, src); return this; }
+        /** Copies the values in the specified array to the {@code compareOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putCompareOp(int[] src) { scatter(VkStencilOpState.COMPAREOP, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compareOp} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putCompareOp(IntBuffer src) { scatter(VkStencilOpState.COMPAREOP, src); return this; }
+        /** Copies the values in the specified array to the {@code compareMask} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putCompareMask(int[] src) { scatter(VkStencilOpState.COMPAREMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compareMask} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putCompareMask(IntBuffer src) { scatter(VkStencilOpState.COMPAREMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code writeMask} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putWriteMask(int[] src) { scatter(VkStencilOpState.WRITEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code writeMask} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putWriteMask(IntBuffer src) { scatter(VkStencilOpState.WRITEMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code reference} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putReference(int[] src) { scatter(VkStencilOpState.REFERENCE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code reference} field of the structs between the current position and limit. */
+        public VkStencilOpState.Buffer putReference(IntBuffer src) { scatter(VkStencilOpState.REFERENCE, src); return this; }
+
     }
 
 }
\ No newline at end of file
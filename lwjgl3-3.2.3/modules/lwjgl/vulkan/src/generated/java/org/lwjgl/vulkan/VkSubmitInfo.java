@@ -324,6 +324,24 @@ public class VkSubmitInfo extends Struct implements NativeResource {
         return wrap(VkSubmitInfo.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubmitInfo} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubmitInfo malloc(MemoryArena arena) {
+        return wrap(VkSubmitInfo.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubmitInfo} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubmitInfo calloc(MemoryArena arena) {
+        return wrap(VkSubmitInfo.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubmitInfo.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -362,6 +380,26 @@ public class VkSubmitInfo extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubmitInfo.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubmitInfo.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubmitInfo.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubmitInfo.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -517,6 +555,32 @@ public class VkSubmitInfo extends Struct implements NativeResource {
         /** Sets the address of the specified {@link LongBuffer} to the {@code pSignalSemaphores} field. */
         public VkSubmitInfo.Buffer pSignalSemaphores(@Nullable @NativeType("VkSemaphore const *") LongBuffer value) { VkSubmitInfo.npSignalSemaphores(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSubmitInfo.Buffer getSType(int[] dst) { gather(VkSubmitInfo.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubmitInfo.Buffer getSType(IntBuffer dst) { gather(VkSubmitInfo.STYPE, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubmitInfo.Buffer getWaitSemaphoreCount(int[] dst) { gather(VkSubmitInfo.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code waitSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubmitInfo.Buffer getWaitSemaphoreCount(IntBuffer dst) { gather(VkSubmitInfo.WAITSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code commandBufferCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubmitInfo.Buffer getCommandBufferCount(int[] dst) { gather(VkSubmitInfo.COMMANDBUFFERCOUNT, dst); return this; }
+        /** Copies the {@code commandBufferCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubmitInfo.Buffer getCommandBufferCount(IntBuffer dst) { gather(VkSubmitInfo.COMMANDBUFFERCOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubmitInfo.Buffer getSignalSemaphoreCount(int[] dst) { gather(VkSubmitInfo.SIGNALSEMAPHORECOUNT, dst); return this; }
+        /** Copies the {@code signalSemaphoreCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubmitInfo.Buffer getSignalSemaphoreCount(IntBuffer dst) { gather(VkSubmitInfo.SIGNALSEMAPHORECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubmitInfo.Buffer putSType(int[] src) { scatter(VkSubmitInfo.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubmitInfo.Buffer putSType(IntBuffer src) { scatter(VkSubmitInfo.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code waitSemaphoreCount} field of the structs between the current position and limit. */
+        public VkSubmitInfo.Buffer putWaitSemaphoreCount(int[] src) { scatter(VkSubmitInfo.WAITSEMAPHORECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code waitSemaphoreCount} field of the structs between the current position and limit. */
+        public VkSubmitInfo.Buffer putWaitSemaphoreCount(IntBuffer src) { scatter(VkSubmitInfo.WAITSEMAPHORECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -234,6 +234,24 @@ public class VkSubpassBeginInfoKHR extends Struct implements NativeResource {
         return wrap(VkSubpassBeginInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassBeginInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassBeginInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkSubpassBeginInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassBeginInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassBeginInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkSubpassBeginInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassBeginInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkSubpassBeginInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassBeginInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassBeginInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassBeginInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassBeginInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -343,6 +381,24 @@ public class VkSubpassBeginInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code contents} field. */
         public VkSubpassBeginInfoKHR.Buffer contents(@NativeType("VkSubpassContents") int value) { VkSubpassBeginInfoKHR.ncontents(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassBeginInfoKHR.Buffer getSType(int[] dst) { gather(VkSubpassBeginInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassBeginInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkSubpassBeginInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code contents} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassBeginInfoKHR.Buffer getContents(int[] dst) { gather(VkSubpassBeginInfoKHR.CONTENTS, dst); return this; }
+        /** Copies the {@code contents} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassBeginInfoKHR.Buffer getContents(IntBuffer dst) { gather(VkSubpassBeginInfoKHR.CONTENTS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassBeginInfoKHR.Buffer putSType(int[] src) { scatter(VkSubpassBeginInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassBeginInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkSubpassBeginInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code contents} field of the structs between the current position and limit. */
+        public VkSubpassBeginInfoKHR.Buffer putContents(int[] src) { scatter(VkSubpassBeginInfoKHR.CONTENTS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code contents} field of the structs between the current position and limit. */
+        public VkSubpassBeginInfoKHR.Buffer putContents(IntBuffer src) { scatter(VkSubpassBeginInfoKHR.CONTENTS, src); return this; }
+
     }
 
 }
\ No newline at end of file
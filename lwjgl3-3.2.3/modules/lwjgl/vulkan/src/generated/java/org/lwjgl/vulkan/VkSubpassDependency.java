@@ -334,6 +334,24 @@ public class VkSubpassDependency extends Struct implements NativeResource {
         return wrap(VkSubpassDependency.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassDependency} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDependency malloc(MemoryArena arena) {
+        return wrap(VkSubpassDependency.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassDependency} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDependency calloc(MemoryArena arena) {
+        return wrap(VkSubpassDependency.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassDependency.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -372,6 +390,26 @@ public class VkSubpassDependency extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassDependency.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDependency.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassDependency.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDependency.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #srcSubpass}. */
@@ -479,6 +517,64 @@ public class VkSubpassDependency extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dependencyFlags} field. */
         public VkSubpassDependency.Buffer dependencyFlags(@NativeType("VkDependencyFlags") int value) { VkSubpassDependency.ndependencyFlags(address(), value); return this; }
 
+        /** Copies the {@code srcSubpass} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getSrcSubpass(int[] dst) { gather(VkSubpassDependency.SRCSUBPASS, dst); return this; }
+        /** Copies the {@code srcSubpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getSrcSubpass(IntBuffer dst) { gather(VkSubpassDependency.SRCSUBPASS, dst); return this; }
+        /** Copies the {@code dstSubpass} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getDstSubpass(int[] dst) { gather(VkSubpassDependency.DSTSUBPASS, dst); return this; }
+        /** Copies the {@code dstSubpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getDstSubpass(IntBuffer dst) { gather(VkSubpassDependency.DSTSUBPASS, dst); return this; }
+        /** Copies the {@code srcStageMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getSrcStageMask(int[] dst) { gather(VkSubpassDependency.SRCSTAGEMASK, dst); return this; }
+        /** Copies the {@code srcStageMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getSrcStageMask(IntBuffer dst) { gather(VkSubpassDependency.SRCSTAGEMASK, dst); return this; }
+        /** Copies the {@code dstStageMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getDstStageMask(int[] dst) { gather(VkSubpassDependency.DSTSTAGEMASK, dst); return this; }
+        /** Copies the {@code dstStageMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getDstStageMask(IntBuffer dst) { gather(VkSubpassDependency.DSTSTAGEMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getSrcAccessMask(int[] dst) { gather(VkSubpassDependency.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getSrcAccessMask(IntBuffer dst) { gather(VkSubpassDependency.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getDstAccessMask(int[] dst) { gather(VkSubpassDependency.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getDstAccessMask(IntBuffer dst) { gather(VkSubpassDependency.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dependencyFlags} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency.Buffer getDependencyFlags(int[] dst) { gather(VkSubpassDependency.DEPENDENCYFLAGS, dst); return this; }
+        /** Copies the {@code dependencyFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency.Buffer getDependencyFlags(IntBuffer dst) { gather(VkSubpassDependency.DEPENDENCYFLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code srcSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putSrcSubpass(int[] src) { scatter(VkSubpassDependency.SRCSUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putSrcSubpass(IntBuffer src) { scatter(VkSubpassDependency.SRCSUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code dstSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDstSubpass(int[] src) { scatter(VkSubpassDependency.DSTSUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDstSubpass(IntBuffer src) { scatter(VkSubpassDependency.DSTSUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code srcStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putSrcStageMask(int[] src) { scatter(VkSubpassDependency.SRCSTAGEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putSrcStageMask(IntBuffer src) { scatter(VkSubpassDependency.SRCSTAGEMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDstStageMask(int[] src) { scatter(VkSubpassDependency.DSTSTAGEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDstStageMask(IntBuffer src) { scatter(VkSubpassDependency.DSTSTAGEMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putSrcAccessMask(int[] src) { scatter(VkSubpassDependency.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putSrcAccessMask(IntBuffer src) { scatter(VkSubpassDependency.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDstAccessMask(int[] src) { scatter(VkSubpassDependency.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDstAccessMask(IntBuffer src) { scatter(VkSubpassDependency.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dependencyFlags} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDependencyFlags(int[] src) { scatter(VkSubpassDependency.DEPENDENCYFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dependencyFlags} field of the structs between the current position and limit. */
+        public VkSubpassDependency.Buffer putDependencyFlags(IntBuffer src) { scatter(VkSubpassDependency.DEPENDENCYFLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
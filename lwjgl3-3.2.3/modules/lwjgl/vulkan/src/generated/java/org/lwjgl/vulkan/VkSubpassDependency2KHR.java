@@ -353,6 +353,24 @@ public class VkSubpassDependency2KHR extends Struct implements NativeResource {
         return wrap(VkSubpassDependency2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassDependency2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDependency2KHR malloc(MemoryArena arena) {
+        return wrap(VkSubpassDependency2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassDependency2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDependency2KHR calloc(MemoryArena arena) {
+        return wrap(VkSubpassDependency2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassDependency2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -391,6 +409,26 @@ public class VkSubpassDependency2KHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassDependency2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDependency2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassDependency2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDependency2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -525,6 +563,80 @@ public class VkSubpassDependency2KHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code viewOffset} field. */
         public VkSubpassDependency2KHR.Buffer viewOffset(@NativeType("int32_t") int value) { VkSubpassDependency2KHR.nviewOffset(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getSType(int[] dst) { gather(VkSubpassDependency2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getSType(IntBuffer dst) { gather(VkSubpassDependency2KHR.STYPE, dst); return this; }
+        /** Copies the {@code srcSubpass} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getSrcSubpass(int[] dst) { gather(VkSubpassDependency2KHR.SRCSUBPASS, dst); return this; }
+        /** Copies the {@code srcSubpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getSrcSubpass(IntBuffer dst) { gather(VkSubpassDependency2KHR.SRCSUBPASS, dst); return this; }
+        /** Copies the {@code dstSubpass} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getDstSubpass(int[] dst) { gather(VkSubpassDependency2KHR.DSTSUBPASS, dst); return this; }
+        /** Copies the {@code dstSubpass} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getDstSubpass(IntBuffer dst) { gather(VkSubpassDependency2KHR.DSTSUBPASS, dst); return this; }
+        /** Copies the {@code srcStageMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getSrcStageMask(int[] dst) { gather(VkSubpassDependency2KHR.SRCSTAGEMASK, dst); return this; }
+        /** Copies the {@code srcStageMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getSrcStageMask(IntBuffer dst) { gather(VkSubpassDependency2KHR.SRCSTAGEMASK, dst); return this; }
+        /** Copies the {@code dstStageMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getDstStageMask(int[] dst) { gather(VkSubpassDependency2KHR.DSTSTAGEMASK, dst); return this; }
+        /** Copies the {@code dstStageMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getDstStageMask(IntBuffer dst) { gather(VkSubpassDependency2KHR.DSTSTAGEMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getSrcAccessMask(int[] dst) { gather(VkSubpassDependency2KHR.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code srcAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getSrcAccessMask(IntBuffer dst) { gather(VkSubpassDependency2KHR.SRCACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getDstAccessMask(int[] dst) { gather(VkSubpassDependency2KHR.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dstAccessMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getDstAccessMask(IntBuffer dst) { gather(VkSubpassDependency2KHR.DSTACCESSMASK, dst); return this; }
+        /** Copies the {@code dependencyFlags} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getDependencyFlags(int[] dst) { gather(VkSubpassDependency2KHR.DEPENDENCYFLAGS, dst); return this; }
+        /** Copies the {@code dependencyFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getDependencyFlags(IntBuffer dst) { gather(VkSubpassDependency2KHR.DEPENDENCYFLAGS, dst); return this; }
+        /** Copies the {@code viewOffset} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDependency2KHR.Buffer getViewOffset(int[] dst) { gather(VkSubpassDependency2KHR.VIEWOFFSET, dst); return this; }
+        /** Copies the {@code viewOffset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDependency2KHR.Buffer getViewOffset(IntBuffer dst) { gather(VkSubpassDependency2KHR.VIEWOFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSType(int[] src) { scatter(VkSubpassDependency2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSType(IntBuffer src) { scatter(VkSubpassDependency2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code srcSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSrcSubpass(int[] src) { scatter(VkSubpassDependency2KHR.SRCSUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSrcSubpass(IntBuffer src) { scatter(VkSubpassDependency2KHR.SRCSUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code dstSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDstSubpass(int[] src) { scatter(VkSubpassDependency2KHR.DSTSUBPASS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstSubpass} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDstSubpass(IntBuffer src) { scatter(VkSubpassDependency2KHR.DSTSUBPASS, src); return this; }
+        /** Copies the values in the specified array to the {@code srcStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSrcStageMask(int[] src) { scatter(VkSubpassDependency2KHR.SRCSTAGEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSrcStageMask(IntBuffer src) { scatter(VkSubpassDependency2KHR.SRCSTAGEMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDstStageMask(int[] src) { scatter(VkSubpassDependency2KHR.DSTSTAGEMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstStageMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDstStageMask(IntBuffer src) { scatter(VkSubpassDependency2KHR.DSTSTAGEMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSrcAccessMask(int[] src) { scatter(VkSubpassDependency2KHR.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code srcAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putSrcAccessMask(IntBuffer src) { scatter(VkSubpassDependency2KHR.SRCACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDstAccessMask(int[] src) { scatter(VkSubpassDependency2KHR.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstAccessMask} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDstAccessMask(IntBuffer src) { scatter(VkSubpassDependency2KHR.DSTACCESSMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code dependencyFlags} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDependencyFlags(int[] src) { scatter(VkSubpassDependency2KHR.DEPENDENCYFLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dependencyFlags} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putDependencyFlags(IntBuffer src) { scatter(VkSubpassDependency2KHR.DEPENDENCYFLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code viewOffset} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putViewOffset(int[] src) { scatter(VkSubpassDependency2KHR.VIEWOFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code viewOffset} field of the structs between the current position and limit. */
+        public VkSubpassDependency2KHR.Buffer putViewOffset(IntBuffer src) { scatter(VkSubpassDependency2KHR.VIEWOFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
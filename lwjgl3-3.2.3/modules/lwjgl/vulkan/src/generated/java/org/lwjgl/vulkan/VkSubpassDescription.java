@@ -367,6 +367,24 @@ public class VkSubpassDescription extends Struct implements NativeResource {
         return wrap(VkSubpassDescription.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassDescription} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDescription malloc(MemoryArena arena) {
+        return wrap(VkSubpassDescription.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassDescription} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDescription calloc(MemoryArena arena) {
+        return wrap(VkSubpassDescription.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassDescription.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -405,6 +423,26 @@ public class VkSubpassDescription extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassDescription.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDescription.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassDescription.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDescription.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #flags}. */
@@ -569,6 +607,40 @@ public class VkSubpassDescription extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pPreserveAttachments} field. */
         public VkSubpassDescription.Buffer pPreserveAttachments(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkSubpassDescription.npPreserveAttachments(address(), value); return this; }
 
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription.Buffer getFlags(int[] dst) { gather(VkSubpassDescription.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription.Buffer getFlags(IntBuffer dst) { gather(VkSubpassDescription.FLAGS, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription.Buffer getPipelineBindPoint(int[] dst) { gather(VkSubpassDescription.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription.Buffer getPipelineBindPoint(IntBuffer dst) { gather(VkSubpassDescription.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code inputAttachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription.Buffer getInputAttachmentCount(int[] dst) { gather(VkSubpassDescription.INPUTATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code inputAttachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription.Buffer getInputAttachmentCount(IntBuffer dst) { gather(VkSubpassDescription.INPUTATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code colorAttachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription.Buffer getColorAttachmentCount(int[] dst) { gather(VkSubpassDescription.COLORATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code colorAttachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription.Buffer getColorAttachmentCount(IntBuffer dst) { gather(VkSubpassDescription.COLORATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code preserveAttachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription.Buffer getPreserveAttachmentCount(int[] dst) { gather(VkSubpassDescription.PRESERVEATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code preserveAttachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription.Buffer getPreserveAttachmentCount(IntBuffer dst) { gather(VkSubpassDescription.PRESERVEATTACHMENTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkSubpassDescription.Buffer putFlags(int[] src) { scatter(VkSubpassDescription.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkSubpassDescription.Buffer putFlags(IntBuffer src) { scatter(VkSubpassDescription.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkSubpassDescription.Buffer putPipelineBindPoint(int[] src) { scatter(VkSubpassDescription.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkSubpassDescription.Buffer putPipelineBindPoint(IntBuffer src) { scatter(VkSubpassDescription.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified array to the {@code colorAttachmentCount} field of the structs between the current position and limit. */
+        public VkSubpassDescription.Buffer putColorAttachmentCount(int[] src) { scatter(VkSubpassDescription.COLORATTACHMENTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code colorAttachmentCount} field of the structs between the current position and limit. */
+        public VkSubpassDescription.Buffer putColorAttachmentCount(IntBuffer src) { scatter(VkSubpassDescription.COLORATTACHMENTCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -385,6 +385,24 @@ public class VkSubpassDescription2KHR extends Struct implements NativeResource {
         return wrap(VkSubpassDescription2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassDescription2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDescription2KHR malloc(MemoryArena arena) {
+        return wrap(VkSubpassDescription2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassDescription2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDescription2KHR calloc(MemoryArena arena) {
+        return wrap(VkSubpassDescription2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassDescription2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -423,6 +441,26 @@ public class VkSubpassDescription2KHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassDescription2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDescription2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassDescription2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDescription2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -614,6 +652,56 @@ public class VkSubpassDescription2KHR extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pPreserveAttachments} field. */
         public VkSubpassDescription2KHR.Buffer pPreserveAttachments(@Nullable @NativeType("uint32_t const *") IntBuffer value) { VkSubpassDescription2KHR.npPreserveAttachments(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getSType(int[] dst) { gather(VkSubpassDescription2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getSType(IntBuffer dst) { gather(VkSubpassDescription2KHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getFlags(int[] dst) { gather(VkSubpassDescription2KHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getFlags(IntBuffer dst) { gather(VkSubpassDescription2KHR.FLAGS, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getPipelineBindPoint(int[] dst) { gather(VkSubpassDescription2KHR.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code pipelineBindPoint} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getPipelineBindPoint(IntBuffer dst) { gather(VkSubpassDescription2KHR.PIPELINEBINDPOINT, dst); return this; }
+        /** Copies the {@code viewMask} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getViewMask(int[] dst) { gather(VkSubpassDescription2KHR.VIEWMASK, dst); return this; }
+        /** Copies the {@code viewMask} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getViewMask(IntBuffer dst) { gather(VkSubpassDescription2KHR.VIEWMASK, dst); return this; }
+        /** Copies the {@code inputAttachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getInputAttachmentCount(int[] dst) { gather(VkSubpassDescription2KHR.INPUTATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code inputAttachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getInputAttachmentCount(IntBuffer dst) { gather(VkSubpassDescription2KHR.INPUTATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code colorAttachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getColorAttachmentCount(int[] dst) { gather(VkSubpassDescription2KHR.COLORATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code colorAttachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getColorAttachmentCount(IntBuffer dst) { gather(VkSubpassDescription2KHR.COLORATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code preserveAttachmentCount} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescription2KHR.Buffer getPreserveAttachmentCount(int[] dst) { gather(VkSubpassDescription2KHR.PRESERVEATTACHMENTCOUNT, dst); return this; }
+        /** Copies the {@code preserveAttachmentCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescription2KHR.Buffer getPreserveAttachmentCount(IntBuffer dst) { gather(VkSubpassDescription2KHR.PRESERVEATTACHMENTCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putSType(int[] src) { scatter(VkSubpassDescription2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putSType(IntBuffer src) { scatter(VkSubpassDescription2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putFlags(int[] src) { scatter(VkSubpassDescription2KHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putFlags(IntBuffer src) { scatter(VkSubpassDescription2KHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putPipelineBindPoint(int[] src) { scatter(VkSubpassDescription2KHR.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code pipelineBindPoint} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putPipelineBindPoint(IntBuffer src) { scatter(VkSubpassDescription2KHR.PIPELINEBINDPOINT, src); return this; }
+        /** Copies the values in the specified array to the {@code viewMask} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putViewMask(int[] src) { scatter(VkSubpassDescription2KHR.VIEWMASK, src); return this; }
+        /** Copies the values in the specified buffer to the {@code viewMask} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putViewMask(IntBuffer src) { scatter(VkSubpassDescription2KHR.VIEWMASK, src); return this; }
+        /** Copies the values in the specified array to the {@code colorAttachmentCount} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putColorAttachmentCount(int[] src) { scatter(VkSubpassDescription2KHR.COLORATTACHMENTCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code colorAttachmentCount} field of the structs between the current position and limit. */
+        public VkSubpassDescription2KHR.Buffer putColorAttachmentCount(IntBuffer src) { scatter(VkSubpassDescription2KHR.COLORATTACHMENTCOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -276,6 +276,24 @@ public class VkSubpassDescriptionDepthStencilResolveKHR extends Struct implement
         return wrap(VkSubpassDescriptionDepthStencilResolveKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassDescriptionDepthStencilResolveKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDescriptionDepthStencilResolveKHR malloc(MemoryArena arena) {
+        return wrap(VkSubpassDescriptionDepthStencilResolveKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassDescriptionDepthStencilResolveKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassDescriptionDepthStencilResolveKHR calloc(MemoryArena arena) {
+        return wrap(VkSubpassDescriptionDepthStencilResolveKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassDescriptionDepthStencilResolveKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -314,6 +332,26 @@ public class VkSubpassDescriptionDepthStencilResolveKHR extends Struct implement
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassDescriptionDepthStencilResolveKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDescriptionDepthStencilResolveKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassDescriptionDepthStencilResolveKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassDescriptionDepthStencilResolveKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -404,6 +442,32 @@ public class VkSubpassDescriptionDepthStencilResolveKHR extends Struct implement
         /** Sets the address of the specified {@link VkAttachmentReference2KHR} to the {@code pDepthStencilResolveAttachment} field. */
         public VkSubpassDescriptionDepthStencilResolveKHR.Buffer pDepthStencilResolveAttachment(@Nullable @NativeType("VkAttachmentReference2KHR const *") VkAttachmentReference2KHR value) { VkSubpassDescriptionDepthStencilResolveKHR.npDepthStencilResolveAttachment(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer getSType(int[] dst) { gather(VkSubpassDescriptionDepthStencilResolveKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer getSType(IntBuffer dst) { gather(VkSubpassDescriptionDepthStencilResolveKHR.STYPE, dst); return this; }
+        /** Copies the {@code depthResolveMode} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer getDepthResolveMode(int[] dst) { gather(VkSubpassDescriptionDepthStencilResolveKHR.DEPTHRESOLVEMODE, dst); return this; }
+        /** Copies the {@code depthResolveMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer getDepthResolveMode(IntBuffer dst) { gather(VkSubpassDescriptionDepthStencilResolveKHR.DEPTHRESOLVEMODE, dst); return this; }
+        /** Copies the {@code stencilResolveMode} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer getStencilResolveMode(int[] dst) { gather(VkSubpassDescriptionDepthStencilResolveKHR.STENCILRESOLVEMODE, dst); return this; }
+        /** Copies the {@code stencilResolveMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer getStencilResolveMode(IntBuffer dst) { gather(VkSubpassDescriptionDepthStencilResolveKHR.STENCILRESOLVEMODE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer putSType(int[] src) { scatter(VkSubpassDescriptionDepthStencilResolveKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer putSType(IntBuffer src) { scatter(VkSubpassDescriptionDepthStencilResolveKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code depthResolveMode} field of the structs between the current position and limit. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer putDepthResolveMode(int[] src) { scatter(VkSubpassDescriptionDepthStencilResolveKHR.DEPTHRESOLVEMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code depthResolveMode} field of the structs between the current position and limit. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer putDepthResolveMode(IntBuffer src) { scatter(VkSubpassDescriptionDepthStencilResolveKHR.DEPTHRESOLVEMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code stencilResolveMode} field of the structs between the current position and limit. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer putStencilResolveMode(int[] src) { scatter(VkSubpassDescriptionDepthStencilResolveKHR.STENCILRESOLVEMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stencilResolveMode} field of the structs between the current position and limit. */
+        public VkSubpassDescriptionDepthStencilResolveKHR.Buffer putStencilResolveMode(IntBuffer src) { scatter(VkSubpassDescriptionDepthStencilResolveKHR.STENCILRESOLVEMODE, src); return this; }
+
     }
 
 }
\ No newline at end of file
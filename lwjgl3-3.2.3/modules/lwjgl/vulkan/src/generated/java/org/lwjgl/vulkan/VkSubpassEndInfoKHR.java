@@ -221,6 +221,24 @@ public class VkSubpassEndInfoKHR extends Struct implements NativeResource {
         return wrap(VkSubpassEndInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassEndInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassEndInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkSubpassEndInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassEndInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassEndInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkSubpassEndInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassEndInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -259,6 +277,26 @@ public class VkSubpassEndInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassEndInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassEndInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassEndInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassEndInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -321,6 +359,16 @@ public class VkSubpassEndInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code pNext} field. */
         public VkSubpassEndInfoKHR.Buffer pNext(@NativeType("void const *") long value) { VkSubpassEndInfoKHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassEndInfoKHR.Buffer getSType(int[] dst) { gather(VkSubpassEndInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassEndInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkSubpassEndInfoKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassEndInfoKHR.Buffer putSType(int[] src) { scatter(VkSubpassEndInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSubpassEndInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkSubpassEndInfoKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
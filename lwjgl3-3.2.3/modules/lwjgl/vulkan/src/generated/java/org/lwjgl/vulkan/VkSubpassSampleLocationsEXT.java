@@ -231,6 +231,24 @@ public class VkSubpassSampleLocationsEXT extends Struct implements NativeResourc
         return wrap(VkSubpassSampleLocationsEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubpassSampleLocationsEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassSampleLocationsEXT malloc(MemoryArena arena) {
+        return wrap(VkSubpassSampleLocationsEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubpassSampleLocationsEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubpassSampleLocationsEXT calloc(MemoryArena arena) {
+        return wrap(VkSubpassSampleLocationsEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubpassSampleLocationsEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -269,6 +287,26 @@ public class VkSubpassSampleLocationsEXT extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubpassSampleLocationsEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassSampleLocationsEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubpassSampleLocationsEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubpassSampleLocationsEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #subpassIndex}. */
@@ -353,6 +391,16 @@ public class VkSubpassSampleLocationsEXT extends Struct implements NativeResourc
         /** Passes the {@code sampleLocationsInfo} field to the specified {@link java.util.function.Consumer Consumer}. */
         public VkSubpassSampleLocationsEXT.Buffer sampleLocationsInfo(java.util.function.Consumer<VkSampleLocationsInfoEXT> consumer) { consumer.accept(sampleLocationsInfo()); return this; }
 
+        /** Copies the {@code subpassIndex} field of the structs between the current position and limit to the specified array. */
+        public VkSubpassSampleLocationsEXT.Buffer getSubpassIndex(int[] dst) { gather(VkSubpassSampleLocationsEXT.SUBPASSINDEX, dst); return this; }
+        /** Copies the {@code subpassIndex} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubpassSampleLocationsEXT.Buffer getSubpassIndex(IntBuffer dst) { gather(VkSubpassSampleLocationsEXT.SUBPASSINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code subpassIndex} field of the structs between the current position and limit. */
+        public VkSubpassSampleLocationsEXT.Buffer putSubpassIndex(int[] src) { scatter(VkSubpassSampleLocationsEXT.SUBPASSINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code subpassIndex} field of the structs between the current position and limit. */
+        public VkSubpassSampleLocationsEXT.Buffer putSubpassIndex(IntBuffer src) { scatter(VkSubpassSampleLocationsEXT.SUBPASSINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
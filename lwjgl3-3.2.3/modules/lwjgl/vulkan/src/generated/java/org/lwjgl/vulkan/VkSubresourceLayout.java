@@ -234,6 +234,24 @@ public class VkSubresourceLayout extends Struct implements NativeResource {
         return wrap(VkSubresourceLayout.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSubresourceLayout} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubresourceLayout malloc(MemoryArena arena) {
+        return wrap(VkSubresourceLayout.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSubresourceLayout} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSubresourceLayout calloc(MemoryArena arena) {
+        return wrap(VkSubresourceLayout.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSubresourceLayout.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -272,6 +290,26 @@ public class VkSubresourceLayout extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSubresourceLayout.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubresourceLayout.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSubresourceLayout.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSubresourceLayout.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #offset}. */
@@ -339,6 +377,27 @@ public class VkSubresourceLayout extends Struct implements NativeResource {
         @NativeType("VkDeviceSize")
         public long depthPitch() { return VkSubresourceLayout.ndepthPitch(address()); }
 
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkSubresourceLayout.Buffer getOffset(long[] dst) { gather(VkSubresourceLayout.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubresourceLayout.Buffer getOffset(LongBuffer dst) { gather(VkSubresourceLayout.OFFSET, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified array. */
+        public VkSubresourceLayout.Buffer getSize(long[] dst) { gather(VkSubresourceLayout.SIZE, dst); return this; }
+        /** Copies the {@code size} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubresourceLayout.Buffer getSize(LongBuffer dst) { gather(VkSubresourceLayout.SIZE, dst); return this; }
+        /** Copies the {@code rowPitch} field of the structs between the current position and limit to the specified array. */
+        public VkSubresourceLayout.Buffer getRowPitch(long[] dst) { gather(VkSubresourceLayout.ROWPITCH, dst); return this; }
+        /** Copies the {@code rowPitch} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubresourceLayout.Buffer getRowPitch(LongBuffer dst) { gather(VkSubresourceLayout.ROWPITCH, dst); return this; }
+        /** Copies the {@code arrayPitch} field of the structs between the current position and limit to the specified array. */
+        public VkSubresourceLayout.Buffer getArrayPitch(long[] dst) { gather(VkSubresourceLayout.ARRAYPITCH, dst); return this; }
+        /** Copies the {@code arrayPitch} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubresourceLayout.Buffer getArrayPitch(LongBuffer dst) { gather(VkSubresourceLayout.ARRAYPITCH, dst); return this; }
+        /** Copies the {@code depthPitch} field of the structs between the current position and limit to the specified array. */
+        public VkSubresourceLayout.Buffer getDepthPitch(long[] dst) { gather(VkSubresourceLayout.DEPTHPITCH, dst); return this; }
+        /** Copies the {@code depthPitch} field of the structs between the current position and limit to the specified buffer. */
+        public VkSubresourceLayout.Buffer getDepthPitch(LongBuffer dst) { gather(VkSubresourceLayout.DEPTHPITCH, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -302,6 +302,24 @@ public class VkSurfaceCapabilities2EXT extends Struct implements NativeResource
         return wrap(VkSurfaceCapabilities2EXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceCapabilities2EXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2EXT malloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilities2EXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceCapabilities2EXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2EXT calloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilities2EXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceCapabilities2EXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -340,6 +358,26 @@ public class VkSurfaceCapabilities2EXT extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceCapabilities2EXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2EXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceCapabilities2EXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2EXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -454,6 +492,48 @@ public class VkSurfaceCapabilities2EXT extends Struct implements NativeResource
         /** Sets the specified value to the {@code pNext} field. */
         public VkSurfaceCapabilities2EXT.Buffer pNext(@NativeType("void *") long value) { VkSurfaceCapabilities2EXT.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getSType(int[] dst) { gather(VkSurfaceCapabilities2EXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getSType(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.STYPE, dst); return this; }
+        /** Copies the {@code minImageCount} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getMinImageCount(int[] dst) { gather(VkSurfaceCapabilities2EXT.MINIMAGECOUNT, dst); return this; }
+        /** Copies the {@code minImageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getMinImageCount(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.MINIMAGECOUNT, dst); return this; }
+        /** Copies the {@code maxImageCount} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getMaxImageCount(int[] dst) { gather(VkSurfaceCapabilities2EXT.MAXIMAGECOUNT, dst); return this; }
+        /** Copies the {@code maxImageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getMaxImageCount(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.MAXIMAGECOUNT, dst); return this; }
+        /** Copies the {@code maxImageArrayLayers} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getMaxImageArrayLayers(int[] dst) { gather(VkSurfaceCapabilities2EXT.MAXIMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code maxImageArrayLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getMaxImageArrayLayers(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.MAXIMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code supportedTransforms} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedTransforms(int[] dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDTRANSFORMS, dst); return this; }
+        /** Copies the {@code supportedTransforms} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedTransforms(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDTRANSFORMS, dst); return this; }
+        /** Copies the {@code currentTransform} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getCurrentTransform(int[] dst) { gather(VkSurfaceCapabilities2EXT.CURRENTTRANSFORM, dst); return this; }
+        /** Copies the {@code currentTransform} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getCurrentTransform(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.CURRENTTRANSFORM, dst); return this; }
+        /** Copies the {@code supportedCompositeAlpha} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedCompositeAlpha(int[] dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDCOMPOSITEALPHA, dst); return this; }
+        /** Copies the {@code supportedCompositeAlpha} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedCompositeAlpha(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDCOMPOSITEALPHA, dst); return this; }
+        /** Copies the {@code supportedUsageFlags} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedUsageFlags(int[] dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDUSAGEFLAGS, dst); return this; }
+        /** Copies the {@code supportedUsageFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedUsageFlags(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDUSAGEFLAGS, dst); return this; }
+        /** Copies the {@code supportedSurfaceCounters} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedSurfaceCounters(int[] dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDSURFACECOUNTERS, dst); return this; }
+        /** Copies the {@code supportedSurfaceCounters} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2EXT.Buffer getSupportedSurfaceCounters(IntBuffer dst) { gather(VkSurfaceCapabilities2EXT.SUPPORTEDSURFACECOUNTERS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceCapabilities2EXT.Buffer putSType(int[] src) { scatter(VkSurfaceCapabilities2EXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceCapabilities2EXT.Buffer putSType(IntBuffer src) { scatter(VkSurfaceCapabilities2EXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
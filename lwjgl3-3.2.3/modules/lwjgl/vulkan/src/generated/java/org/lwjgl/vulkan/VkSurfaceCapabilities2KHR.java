@@ -229,6 +229,24 @@ public class VkSurfaceCapabilities2KHR extends Struct implements NativeResource
         return wrap(VkSurfaceCapabilities2KHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceCapabilities2KHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2KHR malloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilities2KHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceCapabilities2KHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2KHR calloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilities2KHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceCapabilities2KHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class VkSurfaceCapabilities2KHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceCapabilities2KHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2KHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceCapabilities2KHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilities2KHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -333,6 +371,16 @@ public class VkSurfaceCapabilities2KHR extends Struct implements NativeResource
         /** Sets the specified value to the {@code pNext} field. */
         public VkSurfaceCapabilities2KHR.Buffer pNext(@NativeType("void *") long value) { VkSurfaceCapabilities2KHR.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilities2KHR.Buffer getSType(int[] dst) { gather(VkSurfaceCapabilities2KHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilities2KHR.Buffer getSType(IntBuffer dst) { gather(VkSurfaceCapabilities2KHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceCapabilities2KHR.Buffer putSType(int[] src) { scatter(VkSurfaceCapabilities2KHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceCapabilities2KHR.Buffer putSType(IntBuffer src) { scatter(VkSurfaceCapabilities2KHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkSurfaceCapabilitiesFullScreenExclusiveEXT extends Struct implemen
         return wrap(VkSurfaceCapabilitiesFullScreenExclusiveEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceCapabilitiesFullScreenExclusiveEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesFullScreenExclusiveEXT malloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilitiesFullScreenExclusiveEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceCapabilitiesFullScreenExclusiveEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesFullScreenExclusiveEXT calloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilitiesFullScreenExclusiveEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkSurfaceCapabilitiesFullScreenExclusiveEXT extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,16 @@ public class VkSurfaceCapabilitiesFullScreenExclusiveEXT extends Struct implemen
         /** Sets the specified value to the {@code fullScreenExclusiveSupported} field. */
         public VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer fullScreenExclusiveSupported(@NativeType("VkBool32") boolean value) { VkSurfaceCapabilitiesFullScreenExclusiveEXT.nfullScreenExclusiveSupported(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer getSType(int[] dst) { gather(VkSurfaceCapabilitiesFullScreenExclusiveEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer getSType(IntBuffer dst) { gather(VkSurfaceCapabilitiesFullScreenExclusiveEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer putSType(int[] src) { scatter(VkSurfaceCapabilitiesFullScreenExclusiveEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceCapabilitiesFullScreenExclusiveEXT.Buffer putSType(IntBuffer src) { scatter(VkSurfaceCapabilitiesFullScreenExclusiveEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
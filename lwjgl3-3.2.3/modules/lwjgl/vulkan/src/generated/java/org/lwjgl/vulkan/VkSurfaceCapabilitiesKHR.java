@@ -259,6 +259,24 @@ public class VkSurfaceCapabilitiesKHR extends Struct implements NativeResource {
         return wrap(VkSurfaceCapabilitiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceCapabilitiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesKHR malloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilitiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceCapabilitiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesKHR calloc(MemoryArena arena) {
+        return wrap(VkSurfaceCapabilitiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceCapabilitiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -297,6 +315,26 @@ public class VkSurfaceCapabilitiesKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceCapabilitiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #minImageCount}. */
@@ -386,6 +424,35 @@ public class VkSurfaceCapabilitiesKHR extends Struct implements NativeResource {
         @NativeType("VkImageUsageFlags")
         public int supportedUsageFlags() { return VkSurfaceCapabilitiesKHR.nsupportedUsageFlags(address()); }
 
+        /** Copies the {@code minImageCount} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getMinImageCount(int[] dst) { gather(VkSurfaceCapabilitiesKHR.MINIMAGECOUNT, dst); return this; }
+        /** Copies the {@code minImageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getMinImageCount(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.MINIMAGECOUNT, dst); return this; }
+        /** Copies the {@code maxImageCount} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getMaxImageCount(int[] dst) { gather(VkSurfaceCapabilitiesKHR.MAXIMAGECOUNT, dst); return this; }
+        /** Copies the {@code maxImageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getMaxImageCount(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.MAXIMAGECOUNT, dst); return this; }
+        /** Copies the {@code maxImageArrayLayers} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getMaxImageArrayLayers(int[] dst) { gather(VkSurfaceCapabilitiesKHR.MAXIMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code maxImageArrayLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getMaxImageArrayLayers(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.MAXIMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code supportedTransforms} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getSupportedTransforms(int[] dst) { gather(VkSurfaceCapabilitiesKHR.SUPPORTEDTRANSFORMS, dst); return this; }
+        /** Copies the {@code supportedTransforms} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getSupportedTransforms(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.SUPPORTEDTRANSFORMS, dst); return this; }
+        /** Copies the {@code currentTransform} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getCurrentTransform(int[] dst) { gather(VkSurfaceCapabilitiesKHR.CURRENTTRANSFORM, dst); return this; }
+        /** Copies the {@code currentTransform} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getCurrentTransform(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.CURRENTTRANSFORM, dst); return this; }
+        /** Copies the {@code supportedCompositeAlpha} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getSupportedCompositeAlpha(int[] dst) { gather(VkSurfaceCapabilitiesKHR.SUPPORTEDCOMPOSITEALPHA, dst); return this; }
+        /** Copies the {@code supportedCompositeAlpha} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getSupportedCompositeAlpha(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.SUPPORTEDCOMPOSITEALPHA, dst); return this; }
+        /** Copies the {@code supportedUsageFlags} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceCapabilitiesKHR.Buffer getSupportedUsageFlags(int[] dst) { gather(VkSurfaceCapabilitiesKHR.SUPPORTEDUSAGEFLAGS, dst); return this; }
+        /** Copies the {@code supportedUsageFlags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceCapabilitiesKHR.Buffer getSupportedUsageFlags(IntBuffer dst) { gather(VkSurfaceCapabilitiesKHR.SUPPORTEDUSAGEFLAGS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -182,6 +182,24 @@ public class VkSurfaceFormatKHR extends Struct implements NativeResource {
         return wrap(VkSurfaceFormatKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceFormatKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceFormatKHR malloc(MemoryArena arena) {
+        return wrap(VkSurfaceFormatKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceFormatKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceFormatKHR calloc(MemoryArena arena) {
+        return wrap(VkSurfaceFormatKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceFormatKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -220,6 +238,26 @@ public class VkSurfaceFormatKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceFormatKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceFormatKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceFormatKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceFormatKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #format}. */
@@ -272,6 +310,15 @@ public class VkSurfaceFormatKHR extends Struct implements NativeResource {
         @NativeType("VkColorSpaceKHR")
         public int colorSpace() { return VkSurfaceFormatKHR.ncolorSpace(address()); }
 
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceFormatKHR.Buffer getFormat(int[] dst) { gather(VkSurfaceFormatKHR.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceFormatKHR.Buffer getFormat(IntBuffer dst) { gather(VkSurfaceFormatKHR.FORMAT, dst); return this; }
+        /** Copies the {@code colorSpace} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceFormatKHR.Buffer getColorSpace(int[] dst) { gather(VkSurfaceFormatKHR.COLORSPACE, dst); return this; }
+        /** Copies the {@code colorSpace} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceFormatKHR.Buffer getColorSpace(IntBuffer dst) { gather(VkSurfaceFormatKHR.COLORSPACE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -233,6 +233,24 @@ public class VkSurfaceFullScreenExclusiveInfoEXT extends Struct implements Nativ
         return wrap(VkSurfaceFullScreenExclusiveInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceFullScreenExclusiveInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkSurfaceFullScreenExclusiveInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceFullScreenExclusiveInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkSurfaceFullScreenExclusiveInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceFullScreenExclusiveInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -271,6 +289,26 @@ public class VkSurfaceFullScreenExclusiveInfoEXT extends Struct implements Nativ
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceFullScreenExclusiveInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceFullScreenExclusiveInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -342,6 +380,24 @@ public class VkSurfaceFullScreenExclusiveInfoEXT extends Struct implements Nativ
         /** Sets the specified value to the {@code fullScreenExclusive} field. */
         public VkSurfaceFullScreenExclusiveInfoEXT.Buffer fullScreenExclusive(@NativeType("VkFullScreenExclusiveEXT") int value) { VkSurfaceFullScreenExclusiveInfoEXT.nfullScreenExclusive(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer getSType(int[] dst) { gather(VkSurfaceFullScreenExclusiveInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkSurfaceFullScreenExclusiveInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code fullScreenExclusive} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer getFullScreenExclusive(int[] dst) { gather(VkSurfaceFullScreenExclusiveInfoEXT.FULLSCREENEXCLUSIVE, dst); return this; }
+        /** Copies the {@code fullScreenExclusive} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer getFullScreenExclusive(IntBuffer dst) { gather(VkSurfaceFullScreenExclusiveInfoEXT.FULLSCREENEXCLUSIVE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer putSType(int[] src) { scatter(VkSurfaceFullScreenExclusiveInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkSurfaceFullScreenExclusiveInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code fullScreenExclusive} field of the structs between the current position and limit. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer putFullScreenExclusive(int[] src) { scatter(VkSurfaceFullScreenExclusiveInfoEXT.FULLSCREENEXCLUSIVE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code fullScreenExclusive} field of the structs between the current position and limit. */
+        public VkSurfaceFullScreenExclusiveInfoEXT.Buffer putFullScreenExclusive(IntBuffer src) { scatter(VkSurfaceFullScreenExclusiveInfoEXT.FULLSCREENEXCLUSIVE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -249,6 +249,24 @@ public class VkSurfaceFullScreenExclusiveWin32InfoEXT extends Struct implements
         return wrap(VkSurfaceFullScreenExclusiveWin32InfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceFullScreenExclusiveWin32InfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveWin32InfoEXT malloc(MemoryArena arena) {
+        return wrap(VkSurfaceFullScreenExclusiveWin32InfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceFullScreenExclusiveWin32InfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveWin32InfoEXT calloc(MemoryArena arena) {
+        return wrap(VkSurfaceFullScreenExclusiveWin32InfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -287,6 +305,26 @@ public class VkSurfaceFullScreenExclusiveWin32InfoEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -379,6 +417,16 @@ public class VkSurfaceFullScreenExclusiveWin32InfoEXT extends Struct implements
         /** Sets the specified value to the {@code hmonitor} field. */
         public VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer hmonitor(@NativeType("HMONITOR") long value) { VkSurfaceFullScreenExclusiveWin32InfoEXT.nhmonitor(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer getSType(int[] dst) { gather(VkSurfaceFullScreenExclusiveWin32InfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer getSType(IntBuffer dst) { gather(VkSurfaceFullScreenExclusiveWin32InfoEXT.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer putSType(int[] src) { scatter(VkSurfaceFullScreenExclusiveWin32InfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceFullScreenExclusiveWin32InfoEXT.Buffer putSType(IntBuffer src) { scatter(VkSurfaceFullScreenExclusiveWin32InfoEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkSurfaceProtectedCapabilitiesKHR extends Struct implements NativeR
         return wrap(VkSurfaceProtectedCapabilitiesKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSurfaceProtectedCapabilitiesKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceProtectedCapabilitiesKHR malloc(MemoryArena arena) {
+        return wrap(VkSurfaceProtectedCapabilitiesKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSurfaceProtectedCapabilitiesKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSurfaceProtectedCapabilitiesKHR calloc(MemoryArena arena) {
+        return wrap(VkSurfaceProtectedCapabilitiesKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSurfaceProtectedCapabilitiesKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkSurfaceProtectedCapabilitiesKHR extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSurfaceProtectedCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceProtectedCapabilitiesKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSurfaceProtectedCapabilitiesKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSurfaceProtectedCapabilitiesKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -337,6 +375,16 @@ public class VkSurfaceProtectedCapabilitiesKHR extends Struct implements NativeR
         /** Sets the specified value to the {@code supportsProtected} field. */
         public VkSurfaceProtectedCapabilitiesKHR.Buffer supportsProtected(@NativeType("VkBool32") boolean value) { VkSurfaceProtectedCapabilitiesKHR.nsupportsProtected(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSurfaceProtectedCapabilitiesKHR.Buffer getSType(int[] dst) { gather(VkSurfaceProtectedCapabilitiesKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSurfaceProtectedCapabilitiesKHR.Buffer getSType(IntBuffer dst) { gather(VkSurfaceProtectedCapabilitiesKHR.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceProtectedCapabilitiesKHR.Buffer putSType(int[] src) { scatter(VkSurfaceProtectedCapabilitiesKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSurfaceProtectedCapabilitiesKHR.Buffer putSType(IntBuffer src) { scatter(VkSurfaceProtectedCapabilitiesKHR.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
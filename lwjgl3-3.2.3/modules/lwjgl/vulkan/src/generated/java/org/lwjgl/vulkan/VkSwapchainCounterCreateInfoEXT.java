@@ -235,6 +235,24 @@ public class VkSwapchainCounterCreateInfoEXT extends Struct implements NativeRes
         return wrap(VkSwapchainCounterCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSwapchainCounterCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSwapchainCounterCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkSwapchainCounterCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSwapchainCounterCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSwapchainCounterCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkSwapchainCounterCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSwapchainCounterCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -273,6 +291,26 @@ public class VkSwapchainCounterCreateInfoEXT extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSwapchainCounterCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSwapchainCounterCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSwapchainCounterCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSwapchainCounterCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -344,6 +382,24 @@ public class VkSwapchainCounterCreateInfoEXT extends Struct implements NativeRes
         /** Sets the specified value to the {@code surfaceCounters} field. */
         public VkSwapchainCounterCreateInfoEXT.Buffer surfaceCounters(@NativeType("VkSurfaceCounterFlagsEXT") int value) { VkSwapchainCounterCreateInfoEXT.nsurfaceCounters(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkSwapchainCounterCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkSwapchainCounterCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code surfaceCounters} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer getSurfaceCounters(int[] dst) { gather(VkSwapchainCounterCreateInfoEXT.SURFACECOUNTERS, dst); return this; }
+        /** Copies the {@code surfaceCounters} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer getSurfaceCounters(IntBuffer dst) { gather(VkSwapchainCounterCreateInfoEXT.SURFACECOUNTERS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkSwapchainCounterCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkSwapchainCounterCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code surfaceCounters} field of the structs between the current position and limit. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer putSurfaceCounters(int[] src) { scatter(VkSwapchainCounterCreateInfoEXT.SURFACECOUNTERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code surfaceCounters} field of the structs between the current position and limit. */
+        public VkSwapchainCounterCreateInfoEXT.Buffer putSurfaceCounters(IntBuffer src) { scatter(VkSwapchainCounterCreateInfoEXT.SURFACECOUNTERS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -455,6 +455,24 @@ public class VkSwapchainCreateInfoKHR extends Struct implements NativeResource {
         return wrap(VkSwapchainCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSwapchainCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSwapchainCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkSwapchainCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSwapchainCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSwapchainCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkSwapchainCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSwapchainCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -493,6 +511,26 @@ public class VkSwapchainCreateInfoKHR extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSwapchainCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSwapchainCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSwapchainCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSwapchainCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -722,6 +760,116 @@ public class VkSwapchainCreateInfoKHR extends Struct implements NativeResource {
         /** Sets the specified value to the {@code oldSwapchain} field. */
         public VkSwapchainCreateInfoKHR.Buffer oldSwapchain(@NativeType("VkSwapchainKHR") long value) { VkSwapchainCreateInfoKHR.noldSwapchain(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkSwapchainCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getFlags(int[] dst) { gather(VkSwapchainCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code surface} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getSurface(long[] dst) { gather(VkSwapchainCreateInfoKHR.SURFACE, dst); return this; }
+        /** Copies the {@code surface} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getSurface(LongBuffer dst) { gather(VkSwapchainCreateInfoKHR.SURFACE, dst); return this; }
+        /** Copies the {@code minImageCount} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getMinImageCount(int[] dst) { gather(VkSwapchainCreateInfoKHR.MINIMAGECOUNT, dst); return this; }
+        /** Copies the {@code minImageCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getMinImageCount(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.MINIMAGECOUNT, dst); return this; }
+        /** Copies the {@code imageFormat} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageFormat(int[] dst) { gather(VkSwapchainCreateInfoKHR.IMAGEFORMAT, dst); return this; }
+        /** Copies the {@code imageFormat} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageFormat(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.IMAGEFORMAT, dst); return this; }
+        /** Copies the {@code imageColorSpace} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageColorSpace(int[] dst) { gather(VkSwapchainCreateInfoKHR.IMAGECOLORSPACE, dst); return this; }
+        /** Copies the {@code imageColorSpace} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageColorSpace(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.IMAGECOLORSPACE, dst); return this; }
+        /** Copies the {@code imageArrayLayers} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageArrayLayers(int[] dst) { gather(VkSwapchainCreateInfoKHR.IMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code imageArrayLayers} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageArrayLayers(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.IMAGEARRAYLAYERS, dst); return this; }
+        /** Copies the {@code imageUsage} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageUsage(int[] dst) { gather(VkSwapchainCreateInfoKHR.IMAGEUSAGE, dst); return this; }
+        /** Copies the {@code imageUsage} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageUsage(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.IMAGEUSAGE, dst); return this; }
+        /** Copies the {@code imageSharingMode} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageSharingMode(int[] dst) { gather(VkSwapchainCreateInfoKHR.IMAGESHARINGMODE, dst); return this; }
+        /** Copies the {@code imageSharingMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getImageSharingMode(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.IMAGESHARINGMODE, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getQueueFamilyIndexCount(int[] dst) { gather(VkSwapchainCreateInfoKHR.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+        /** Copies the {@code queueFamilyIndexCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getQueueFamilyIndexCount(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.QUEUEFAMILYINDEXCOUNT, dst); return this; }
+        /** Copies the {@code preTransform} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getPreTransform(int[] dst) { gather(VkSwapchainCreateInfoKHR.PRETRANSFORM, dst); return this; }
+        /** Copies the {@code preTransform} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getPreTransform(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.PRETRANSFORM, dst); return this; }
+        /** Copies the {@code compositeAlpha} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getCompositeAlpha(int[] dst) { gather(VkSwapchainCreateInfoKHR.COMPOSITEALPHA, dst); return this; }
+        /** Copies the {@code compositeAlpha} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getCompositeAlpha(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.COMPOSITEALPHA, dst); return this; }
+        /** Copies the {@code presentMode} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getPresentMode(int[] dst) { gather(VkSwapchainCreateInfoKHR.PRESENTMODE, dst); return this; }
+        /** Copies the {@code presentMode} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getPresentMode(IntBuffer dst) { gather(VkSwapchainCreateInfoKHR.PRESENTMODE, dst); return this; }
+        /** Copies the {@code oldSwapchain} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainCreateInfoKHR.Buffer getOldSwapchain(long[] dst) { gather(VkSwapchainCreateInfoKHR.OLDSWAPCHAIN, dst); return this; }
+        /** Copies the {@code oldSwapchain} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainCreateInfoKHR.Buffer getOldSwapchain(LongBuffer dst) { gather(VkSwapchainCreateInfoKHR.OLDSWAPCHAIN, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkSwapchainCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putFlags(int[] src) { scatter(VkSwapchainCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified array to the {@code surface} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putSurface(long[] src) { scatter(VkSwapchainCreateInfoKHR.SURFACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code surface} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putSurface(LongBuffer src) { scatter(VkSwapchainCreateInfoKHR.SURFACE, src); return this; }
+        /** Copies the values in the specified array to the {@code minImageCount} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putMinImageCount(int[] src) { scatter(VkSwapchainCreateInfoKHR.MINIMAGECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minImageCount} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putMinImageCount(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.MINIMAGECOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code imageFormat} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageFormat(int[] src) { scatter(VkSwapchainCreateInfoKHR.IMAGEFORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageFormat} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageFormat(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.IMAGEFORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code imageColorSpace} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageColorSpace(int[] src) { scatter(VkSwapchainCreateInfoKHR.IMAGECOLORSPACE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageColorSpace} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageColorSpace(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.IMAGECOLORSPACE, src); return this; }
+        /** Copies the values in the specified array to the {@code imageArrayLayers} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageArrayLayers(int[] src) { scatter(VkSwapchainCreateInfoKHR.IMAGEARRAYLAYERS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageArrayLayers} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageArrayLayers(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.IMAGEARRAYLAYERS, src); return this; }
+        /** Copies the values in the specified array to the {@code imageUsage} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageUsage(int[] src) { scatter(VkSwapchainCreateInfoKHR.IMAGEUSAGE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageUsage} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageUsage(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.IMAGEUSAGE, src); return this; }
+        /** Copies the values in the specified array to the {@code imageSharingMode} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageSharingMode(int[] src) { scatter(VkSwapchainCreateInfoKHR.IMAGESHARINGMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code imageSharingMode} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putImageSharingMode(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.IMAGESHARINGMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code preTransform} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putPreTransform(int[] src) { scatter(VkSwapchainCreateInfoKHR.PRETRANSFORM, src); return this; }
+        /** Copies the values in the specified buffer to the {@code preTransform} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putPreTransform(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.PRETRANSFORM, src); return this; }
+        /** Copies the values in the specified array to the {@code compositeAlpha} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putCompositeAlpha(int[] src) { scatter(VkSwapchainCreateInfoKHR.COMPOSITEALPHA, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compositeAlpha} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putCompositeAlpha(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.COMPOSITEALPHA, src); return this; }
+        /** Copies the values in the specified array to the {@code presentMode} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putPresentMode(int[] src) { scatter(VkSwapchainCreateInfoKHR.PRESENTMODE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code presentMode} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putPresentMode(IntBuffer src) { scatter(VkSwapchainCreateInfoKHR.PRESENTMODE, src); return this; }
+        /** Copies the values in the specified array to the {@code oldSwapchain} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putOldSwapchain(long[] src) { scatter(VkSwapchainCreateInfoKHR.OLDSWAPCHAIN, src); return this; }
+        /** Copies the values in the specified buffer to the {@code oldSwapchain} field of the structs between the current position and limit. */
+        public VkSwapchainCreateInfoKHR.Buffer putOldSwapchain(LongBuffer src) { scatter(VkSwapchainCreateInfoKHR.OLDSWAPCHAIN, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -238,6 +238,24 @@ public class VkSwapchainDisplayNativeHdrCreateInfoAMD extends Struct implements
         return wrap(VkSwapchainDisplayNativeHdrCreateInfoAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkSwapchainDisplayNativeHdrCreateInfoAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSwapchainDisplayNativeHdrCreateInfoAMD malloc(MemoryArena arena) {
+        return wrap(VkSwapchainDisplayNativeHdrCreateInfoAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkSwapchainDisplayNativeHdrCreateInfoAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkSwapchainDisplayNativeHdrCreateInfoAMD calloc(MemoryArena arena) {
+        return wrap(VkSwapchainDisplayNativeHdrCreateInfoAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -276,6 +294,26 @@ public class VkSwapchainDisplayNativeHdrCreateInfoAMD extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -347,6 +385,16 @@ public class VkSwapchainDisplayNativeHdrCreateInfoAMD extends Struct implements
         /** Sets the specified value to the {@code localDimmingEnable} field. */
         public VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer localDimmingEnable(@NativeType("VkBool32") boolean value) { VkSwapchainDisplayNativeHdrCreateInfoAMD.nlocalDimmingEnable(address(), value ? 1 : 0); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer getSType(int[] dst) { gather(VkSwapchainDisplayNativeHdrCreateInfoAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer getSType(IntBuffer dst) { gather(VkSwapchainDisplayNativeHdrCreateInfoAMD.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer putSType(int[] src) { scatter(VkSwapchainDisplayNativeHdrCreateInfoAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkSwapchainDisplayNativeHdrCreateInfoAMD.Buffer putSType(IntBuffer src) { scatter(VkSwapchainDisplayNativeHdrCreateInfoAMD.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -224,6 +224,24 @@ public class VkTextureLODGatherFormatPropertiesAMD extends Struct implements Nat
         return wrap(VkTextureLODGatherFormatPropertiesAMD.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkTextureLODGatherFormatPropertiesAMD} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkTextureLODGatherFormatPropertiesAMD malloc(MemoryArena arena) {
+        return wrap(VkTextureLODGatherFormatPropertiesAMD.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkTextureLODGatherFormatPropertiesAMD} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkTextureLODGatherFormatPropertiesAMD calloc(MemoryArena arena) {
+        return wrap(VkTextureLODGatherFormatPropertiesAMD.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkTextureLODGatherFormatPropertiesAMD.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -262,6 +280,26 @@ public class VkTextureLODGatherFormatPropertiesAMD extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkTextureLODGatherFormatPropertiesAMD.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkTextureLODGatherFormatPropertiesAMD.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkTextureLODGatherFormatPropertiesAMD.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkTextureLODGatherFormatPropertiesAMD.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -329,6 +367,16 @@ public class VkTextureLODGatherFormatPropertiesAMD extends Struct implements Nat
         /** Sets the specified value to the {@code pNext} field. */
         public VkTextureLODGatherFormatPropertiesAMD.Buffer pNext(@NativeType("void *") long value) { VkTextureLODGatherFormatPropertiesAMD.npNext(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkTextureLODGatherFormatPropertiesAMD.Buffer getSType(int[] dst) { gather(VkTextureLODGatherFormatPropertiesAMD.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkTextureLODGatherFormatPropertiesAMD.Buffer getSType(IntBuffer dst) { gather(VkTextureLODGatherFormatPropertiesAMD.STYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkTextureLODGatherFormatPropertiesAMD.Buffer putSType(int[] src) { scatter(VkTextureLODGatherFormatPropertiesAMD.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkTextureLODGatherFormatPropertiesAMD.Buffer putSType(IntBuffer src) { scatter(VkTextureLODGatherFormatPropertiesAMD.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
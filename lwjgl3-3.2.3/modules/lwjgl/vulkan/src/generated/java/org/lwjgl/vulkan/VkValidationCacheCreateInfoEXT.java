@@ -264,6 +264,24 @@ public class VkValidationCacheCreateInfoEXT extends Struct implements NativeReso
         return wrap(VkValidationCacheCreateInfoEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkValidationCacheCreateInfoEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkValidationCacheCreateInfoEXT malloc(MemoryArena arena) {
+        return wrap(VkValidationCacheCreateInfoEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkValidationCacheCreateInfoEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkValidationCacheCreateInfoEXT calloc(MemoryArena arena) {
+        return wrap(VkValidationCacheCreateInfoEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkValidationCacheCreateInfoEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class VkValidationCacheCreateInfoEXT extends Struct implements NativeReso
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkValidationCacheCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkValidationCacheCreateInfoEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkValidationCacheCreateInfoEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkValidationCacheCreateInfoEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -413,6 +451,24 @@ public class VkValidationCacheCreateInfoEXT extends Struct implements NativeReso
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pInitialData} field. */
         public VkValidationCacheCreateInfoEXT.Buffer pInitialData(@Nullable @NativeType("void const *") ByteBuffer value) { VkValidationCacheCreateInfoEXT.npInitialData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkValidationCacheCreateInfoEXT.Buffer getSType(int[] dst) { gather(VkValidationCacheCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationCacheCreateInfoEXT.Buffer getSType(IntBuffer dst) { gather(VkValidationCacheCreateInfoEXT.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkValidationCacheCreateInfoEXT.Buffer getFlags(int[] dst) { gather(VkValidationCacheCreateInfoEXT.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationCacheCreateInfoEXT.Buffer getFlags(IntBuffer dst) { gather(VkValidationCacheCreateInfoEXT.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkValidationCacheCreateInfoEXT.Buffer putSType(int[] src) { scatter(VkValidationCacheCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkValidationCacheCreateInfoEXT.Buffer putSType(IntBuffer src) { scatter(VkValidationCacheCreateInfoEXT.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkValidationCacheCreateInfoEXT.Buffer putFlags(int[] src) { scatter(VkValidationCacheCreateInfoEXT.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkValidationCacheCreateInfoEXT.Buffer putFlags(IntBuffer src) { scatter(VkValidationCacheCreateInfoEXT.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -261,6 +261,24 @@ public class VkValidationFeaturesEXT extends Struct implements NativeResource {
         return wrap(VkValidationFeaturesEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkValidationFeaturesEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkValidationFeaturesEXT malloc(MemoryArena arena) {
+        return wrap(VkValidationFeaturesEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkValidationFeaturesEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkValidationFeaturesEXT calloc(MemoryArena arena) {
+        return wrap(VkValidationFeaturesEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkValidationFeaturesEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -299,6 +317,26 @@ public class VkValidationFeaturesEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkValidationFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkValidationFeaturesEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkValidationFeaturesEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkValidationFeaturesEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -421,6 +459,24 @@ public class VkValidationFeaturesEXT extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pDisabledValidationFeatures} field. */
         public VkValidationFeaturesEXT.Buffer pDisabledValidationFeatures(@Nullable @NativeType("VkValidationFeatureDisableEXT const *") IntBuffer value) { VkValidationFeaturesEXT.npDisabledValidationFeatures(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkValidationFeaturesEXT.Buffer getSType(int[] dst) { gather(VkValidationFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationFeaturesEXT.Buffer getSType(IntBuffer dst) { gather(VkValidationFeaturesEXT.STYPE, dst); return this; }
+        /** Copies the {@code enabledValidationFeatureCount} field of the structs between the current position and limit to the specified array. */
+        public VkValidationFeaturesEXT.Buffer getEnabledValidationFeatureCount(int[] dst) { gather(VkValidationFeaturesEXT.ENABLEDVALIDATIONFEATURECOUNT, dst); return this; }
+        /** Copies the {@code enabledValidationFeatureCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationFeaturesEXT.Buffer getEnabledValidationFeatureCount(IntBuffer dst) { gather(VkValidationFeaturesEXT.ENABLEDVALIDATIONFEATURECOUNT, dst); return this; }
+        /** Copies the {@code disabledValidationFeatureCount} field of the structs between the current position and limit to the specified array. */
+        public VkValidationFeaturesEXT.Buffer getDisabledValidationFeatureCount(int[] dst) { gather(VkValidationFeaturesEXT.DISABLEDVALIDATIONFEATURECOUNT, dst); return this; }
+        /** Copies the {@code disabledValidationFeatureCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationFeaturesEXT.Buffer getDisabledValidationFeatureCount(IntBuffer dst) { gather(VkValidationFeaturesEXT.DISABLEDVALIDATIONFEATURECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkValidationFeaturesEXT.Buffer putSType(int[] src) { scatter(VkValidationFeaturesEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkValidationFeaturesEXT.Buffer putSType(IntBuffer src) { scatter(VkValidationFeaturesEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
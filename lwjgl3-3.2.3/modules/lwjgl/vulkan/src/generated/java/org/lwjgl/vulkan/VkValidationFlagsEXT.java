@@ -239,6 +239,24 @@ public class VkValidationFlagsEXT extends Struct implements NativeResource {
         return wrap(VkValidationFlagsEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkValidationFlagsEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkValidationFlagsEXT malloc(MemoryArena arena) {
+        return wrap(VkValidationFlagsEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkValidationFlagsEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkValidationFlagsEXT calloc(MemoryArena arena) {
+        return wrap(VkValidationFlagsEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkValidationFlagsEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VkValidationFlagsEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkValidationFlagsEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkValidationFlagsEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkValidationFlagsEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkValidationFlagsEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -376,6 +414,20 @@ public class VkValidationFlagsEXT extends Struct implements NativeResource {
         /** Sets the address of the specified {@link IntBuffer} to the {@code pDisabledValidationChecks} field. */
         public VkValidationFlagsEXT.Buffer pDisabledValidationChecks(@NativeType("VkValidationCheckEXT const *") IntBuffer value) { VkValidationFlagsEXT.npDisabledValidationChecks(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkValidationFlagsEXT.Buffer getSType(int[] dst) { gather(VkValidationFlagsEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationFlagsEXT.Buffer getSType(IntBuffer dst) { gather(VkValidationFlagsEXT.STYPE, dst); return this; }
+        /** Copies the {@code disabledValidationCheckCount} field of the structs between the current position and limit to the specified array. */
+        public VkValidationFlagsEXT.Buffer getDisabledValidationCheckCount(int[] dst) { gather(VkValidationFlagsEXT.DISABLEDVALIDATIONCHECKCOUNT, dst); return this; }
+        /** Copies the {@code disabledValidationCheckCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkValidationFlagsEXT.Buffer getDisabledValidationCheckCount(IntBuffer dst) { gather(VkValidationFlagsEXT.DISABLEDVALIDATIONCHECKCOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkValidationFlagsEXT.Buffer putSType(int[] src) { scatter(VkValidationFlagsEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkValidationFlagsEXT.Buffer putSType(IntBuffer src) { scatter(VkValidationFlagsEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -253,6 +253,24 @@ public class VkVertexInputAttributeDescription extends Struct implements NativeR
         return wrap(VkVertexInputAttributeDescription.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkVertexInputAttributeDescription} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkVertexInputAttributeDescription malloc(MemoryArena arena) {
+        return wrap(VkVertexInputAttributeDescription.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkVertexInputAttributeDescription} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkVertexInputAttributeDescription calloc(MemoryArena arena) {
+        return wrap(VkVertexInputAttributeDescription.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkVertexInputAttributeDescription.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -291,6 +309,26 @@ public class VkVertexInputAttributeDescription extends Struct implements NativeR
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkVertexInputAttributeDescription.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkVertexInputAttributeDescription.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkVertexInputAttributeDescription.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkVertexInputAttributeDescription.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #location}. */
@@ -371,6 +409,40 @@ public class VkVertexInputAttributeDescription extends Struct implements NativeR
         /** Sets the specified value to the {@code offset} field. */
         public VkVertexInputAttributeDescription.Buffer offset(@NativeType("uint32_t") int value) { VkVertexInputAttributeDescription.noffset(address(), value); return this; }
 
+        /** Copies the {@code location} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputAttributeDescription.Buffer getLocation(int[] dst) { gather(VkVertexInputAttributeDescription.LOCATION, dst); return this; }
+        /** Copies the {@code location} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputAttributeDescription.Buffer getLocation(IntBuffer dst) { gather(VkVertexInputAttributeDescription.LOCATION, dst); return this; }
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputAttributeDescription.Buffer getBinding(int[] dst) { gather(VkVertexInputAttributeDescription.BINDING, dst); return this; }
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputAttributeDescription.Buffer getBinding(IntBuffer dst) { gather(VkVertexInputAttributeDescription.BINDING, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputAttributeDescription.Buffer getFormat(int[] dst) { gather(VkVertexInputAttributeDescription.FORMAT, dst); return this; }
+        /** Copies the {@code format} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputAttributeDescription.Buffer getFormat(IntBuffer dst) { gather(VkVertexInputAttributeDescription.FORMAT, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputAttributeDescription.Buffer getOffset(int[] dst) { gather(VkVertexInputAttributeDescription.OFFSET, dst); return this; }
+        /** Copies the {@code offset} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputAttributeDescription.Buffer getOffset(IntBuffer dst) { gather(VkVertexInputAttributeDescription.OFFSET, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code location} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putLocation(int[] src) { scatter(VkVertexInputAttributeDescription.LOCATION, src); return this; }
+        /** Copies the values in the specified buffer to the {@code location} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putLocation(IntBuffer src) { scatter(VkVertexInputAttributeDescription.LOCATION, src); return this; }
+        /** Copies the values in the specified array to the {@code binding} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putBinding(int[] src) { scatter(VkVertexInputAttributeDescription.BINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code binding} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putBinding(IntBuffer src) { scatter(VkVertexInputAttributeDescription.BINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code format} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putFormat(int[] src) { scatter(VkVertexInputAttributeDescription.FORMAT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code format} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putFormat(IntBuffer src) { scatter(VkVertexInputAttributeDescription.FORMAT, src); return this; }
+        /** Copies the values in the specified array to the {@code offset} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putOffset(int[] src) { scatter(VkVertexInputAttributeDescription.OFFSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code offset} field of the structs between the current position and limit. */
+        public VkVertexInputAttributeDescription.Buffer putOffset(IntBuffer src) { scatter(VkVertexInputAttributeDescription.OFFSET, src); return this; }
+
     }
 
 }
\ No newline at end of file
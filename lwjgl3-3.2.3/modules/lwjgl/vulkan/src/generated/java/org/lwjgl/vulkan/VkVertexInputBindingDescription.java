@@ -239,6 +239,24 @@ public class VkVertexInputBindingDescription extends Struct implements NativeRes
         return wrap(VkVertexInputBindingDescription.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkVertexInputBindingDescription} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkVertexInputBindingDescription malloc(MemoryArena arena) {
+        return wrap(VkVertexInputBindingDescription.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkVertexInputBindingDescription} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkVertexInputBindingDescription calloc(MemoryArena arena) {
+        return wrap(VkVertexInputBindingDescription.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkVertexInputBindingDescription.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -277,6 +295,26 @@ public class VkVertexInputBindingDescription extends Struct implements NativeRes
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkVertexInputBindingDescription.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkVertexInputBindingDescription.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkVertexInputBindingDescription.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkVertexInputBindingDescription.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #binding}. */
@@ -348,6 +386,32 @@ public class VkVertexInputBindingDescription extends Struct implements NativeRes
         /** Sets the specified value to the {@code inputRate} field. */
         public VkVertexInputBindingDescription.Buffer inputRate(@NativeType("VkVertexInputRate") int value) { VkVertexInputBindingDescription.ninputRate(address(), value); return this; }
 
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputBindingDescription.Buffer getBinding(int[] dst) { gather(VkVertexInputBindingDescription.BINDING, dst); return this; }
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputBindingDescription.Buffer getBinding(IntBuffer dst) { gather(VkVertexInputBindingDescription.BINDING, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputBindingDescription.Buffer getStride(int[] dst) { gather(VkVertexInputBindingDescription.STRIDE, dst); return this; }
+        /** Copies the {@code stride} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputBindingDescription.Buffer getStride(IntBuffer dst) { gather(VkVertexInputBindingDescription.STRIDE, dst); return this; }
+        /** Copies the {@code inputRate} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputBindingDescription.Buffer getInputRate(int[] dst) { gather(VkVertexInputBindingDescription.INPUTRATE, dst); return this; }
+        /** Copies the {@code inputRate} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputBindingDescription.Buffer getInputRate(IntBuffer dst) { gather(VkVertexInputBindingDescription.INPUTRATE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code binding} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDescription.Buffer putBinding(int[] src) { scatter(VkVertexInputBindingDescription.BINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code binding} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDescription.Buffer putBinding(IntBuffer src) { scatter(VkVertexInputBindingDescription.BINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code stride} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDescription.Buffer putStride(int[] src) { scatter(VkVertexInputBindingDescription.STRIDE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code stride} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDescription.Buffer putStride(IntBuffer src) { scatter(VkVertexInputBindingDescription.STRIDE, src); return this; }
+        /** Copies the values in the specified array to the {@code inputRate} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDescription.Buffer putInputRate(int[] src) { scatter(VkVertexInputBindingDescription.INPUTRATE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code inputRate} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDescription.Buffer putInputRate(IntBuffer src) { scatter(VkVertexInputBindingDescription.INPUTRATE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -228,6 +228,24 @@ public class VkVertexInputBindingDivisorDescriptionEXT extends Struct implements
         return wrap(VkVertexInputBindingDivisorDescriptionEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkVertexInputBindingDivisorDescriptionEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkVertexInputBindingDivisorDescriptionEXT malloc(MemoryArena arena) {
+        return wrap(VkVertexInputBindingDivisorDescriptionEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkVertexInputBindingDivisorDescriptionEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkVertexInputBindingDivisorDescriptionEXT calloc(MemoryArena arena) {
+        return wrap(VkVertexInputBindingDivisorDescriptionEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkVertexInputBindingDivisorDescriptionEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -266,6 +284,26 @@ public class VkVertexInputBindingDivisorDescriptionEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkVertexInputBindingDivisorDescriptionEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkVertexInputBindingDivisorDescriptionEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkVertexInputBindingDivisorDescriptionEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkVertexInputBindingDivisorDescriptionEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #binding}. */
@@ -328,6 +366,24 @@ public class VkVertexInputBindingDivisorDescriptionEXT extends Struct implements
         /** Sets the specified value to the {@code divisor} field. */
         public VkVertexInputBindingDivisorDescriptionEXT.Buffer divisor(@NativeType("uint32_t") int value) { VkVertexInputBindingDivisorDescriptionEXT.ndivisor(address(), value); return this; }
 
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer getBinding(int[] dst) { gather(VkVertexInputBindingDivisorDescriptionEXT.BINDING, dst); return this; }
+        /** Copies the {@code binding} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer getBinding(IntBuffer dst) { gather(VkVertexInputBindingDivisorDescriptionEXT.BINDING, dst); return this; }
+        /** Copies the {@code divisor} field of the structs between the current position and limit to the specified array. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer getDivisor(int[] dst) { gather(VkVertexInputBindingDivisorDescriptionEXT.DIVISOR, dst); return this; }
+        /** Copies the {@code divisor} field of the structs between the current position and limit to the specified buffer. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer getDivisor(IntBuffer dst) { gather(VkVertexInputBindingDivisorDescriptionEXT.DIVISOR, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code binding} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer putBinding(int[] src) { scatter(VkVertexInputBindingDivisorDescriptionEXT.BINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code binding} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer putBinding(IntBuffer src) { scatter(VkVertexInputBindingDivisorDescriptionEXT.BINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code divisor} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer putDivisor(int[] src) { scatter(VkVertexInputBindingDivisorDescriptionEXT.DIVISOR, src); return this; }
+        /** Copies the values in the specified buffer to the {@code divisor} field of the structs between the current position and limit. */
+        public VkVertexInputBindingDivisorDescriptionEXT.Buffer putDivisor(IntBuffer src) { scatter(VkVertexInputBindingDivisorDescriptionEXT.DIVISOR, src); return this; }
+
     }
 
 }
\ No newline at end of file
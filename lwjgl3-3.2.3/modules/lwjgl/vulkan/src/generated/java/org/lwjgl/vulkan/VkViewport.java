@@ -293,6 +293,24 @@ public class VkViewport extends Struct implements NativeResource {
         return wrap(VkViewport.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkViewport} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkViewport malloc(MemoryArena arena) {
+        return wrap(VkViewport.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkViewport} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkViewport calloc(MemoryArena arena) {
+        return wrap(VkViewport.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkViewport.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -331,6 +349,26 @@ public class VkViewport extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkViewport.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkViewport.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkViewport.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkViewport.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -423,6 +461,56 @@ public class VkViewport extends Struct implements NativeResource {
         /** Sets the specified value to the {@code maxDepth} field. */
         public VkViewport.Buffer maxDepth(float value) { VkViewport.nmaxDepth(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VkViewport.Buffer getX(float[] dst) { gather(VkViewport.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewport.Buffer getX(FloatBuffer dst) { gather(VkViewport.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VkViewport.Buffer getY(float[] dst) { gather(VkViewport.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewport.Buffer getY(FloatBuffer dst) { gather(VkViewport.Y, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public VkViewport.Buffer getWidth(float[] dst) { gather(VkViewport.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewport.Buffer getWidth(FloatBuffer dst) { gather(VkViewport.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public VkViewport.Buffer getHeight(float[] dst) { gather(VkViewport.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewport.Buffer getHeight(FloatBuffer dst) { gather(VkViewport.HEIGHT, dst); return this; }
+        /** Copies the {@code minDepth} field of the structs between the current position and limit to the specified array. */
+        public VkViewport.Buffer getMinDepth(float[] dst) { gather(VkViewport.MINDEPTH, dst); return this; }
+        /** Copies the {@code minDepth} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewport.Buffer getMinDepth(FloatBuffer dst) { gather(VkViewport.MINDEPTH, dst); return this; }
+        /** Copies the {@code maxDepth} field of the structs between the current position and limit to the specified array. */
+        public VkViewport.Buffer getMaxDepth(float[] dst) { gather(VkViewport.MAXDEPTH, dst); return this; }
+        /** Copies the {@code maxDepth} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewport.Buffer getMaxDepth(FloatBuffer dst) { gather(VkViewport.MAXDEPTH, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putX(float[] src) { scatter(VkViewport.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putX(FloatBuffer src) { scatter(VkViewport.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putY(float[] src) { scatter(VkViewport.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putY(FloatBuffer src) { scatter(VkViewport.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putWidth(float[] src) { scatter(VkViewport.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putWidth(FloatBuffer src) { scatter(VkViewport.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putHeight(float[] src) { scatter(VkViewport.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putHeight(FloatBuffer src) { scatter(VkViewport.HEIGHT, src); return this; }
+        /** Copies the values in the specified array to the {@code minDepth} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putMinDepth(float[] src) { scatter(VkViewport.MINDEPTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minDepth} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putMinDepth(FloatBuffer src) { scatter(VkViewport.MINDEPTH, src); return this; }
+        /** Copies the values in the specified array to the {@code maxDepth} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putMaxDepth(float[] src) { scatter(VkViewport.MAXDEPTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code maxDepth} field of the structs between the current position and limit. */
+        public VkViewport.Buffer putMaxDepth(FloatBuffer src) { scatter(VkViewport.MAXDEPTH, src); return this; }
+
     }
 
 }
\ No newline at end of file
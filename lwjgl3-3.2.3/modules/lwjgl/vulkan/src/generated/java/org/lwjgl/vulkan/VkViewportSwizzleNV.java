@@ -247,6 +247,24 @@ public class VkViewportSwizzleNV extends Struct implements NativeResource {
         return wrap(VkViewportSwizzleNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkViewportSwizzleNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkViewportSwizzleNV malloc(MemoryArena arena) {
+        return wrap(VkViewportSwizzleNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkViewportSwizzleNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkViewportSwizzleNV calloc(MemoryArena arena) {
+        return wrap(VkViewportSwizzleNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkViewportSwizzleNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -285,6 +303,26 @@ public class VkViewportSwizzleNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkViewportSwizzleNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkViewportSwizzleNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkViewportSwizzleNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkViewportSwizzleNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -365,6 +403,40 @@ public class VkViewportSwizzleNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code w} field. */
         public VkViewportSwizzleNV.Buffer w(@NativeType("VkViewportCoordinateSwizzleNV") int value) { VkViewportSwizzleNV.nw(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VkViewportSwizzleNV.Buffer getX(int[] dst) { gather(VkViewportSwizzleNV.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewportSwizzleNV.Buffer getX(IntBuffer dst) { gather(VkViewportSwizzleNV.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VkViewportSwizzleNV.Buffer getY(int[] dst) { gather(VkViewportSwizzleNV.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewportSwizzleNV.Buffer getY(IntBuffer dst) { gather(VkViewportSwizzleNV.Y, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified array. */
+        public VkViewportSwizzleNV.Buffer getZ(int[] dst) { gather(VkViewportSwizzleNV.Z, dst); return this; }
+        /** Copies the {@code z} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewportSwizzleNV.Buffer getZ(IntBuffer dst) { gather(VkViewportSwizzleNV.Z, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified array. */
+        public VkViewportSwizzleNV.Buffer getW(int[] dst) { gather(VkViewportSwizzleNV.W, dst); return this; }
+        /** Copies the {@code w} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewportSwizzleNV.Buffer getW(IntBuffer dst) { gather(VkViewportSwizzleNV.W, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putX(int[] src) { scatter(VkViewportSwizzleNV.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putX(IntBuffer src) { scatter(VkViewportSwizzleNV.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putY(int[] src) { scatter(VkViewportSwizzleNV.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putY(IntBuffer src) { scatter(VkViewportSwizzleNV.Y, src); return this; }
+        /** Copies the values in the specified array to the {@code z} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putZ(int[] src) { scatter(VkViewportSwizzleNV.Z, src); return this; }
+        /** Copies the values in the specified buffer to the {@code z} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putZ(IntBuffer src) { scatter(VkViewportSwizzleNV.Z, src); return this; }
+        /** Copies the values in the specified array to the {@code w} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putW(int[] src) { scatter(VkViewportSwizzleNV.W, src); return this; }
+        /** Copies the values in the specified buffer to the {@code w} field of the structs between the current position and limit. */
+        public VkViewportSwizzleNV.Buffer putW(IntBuffer src) { scatter(VkViewportSwizzleNV.W, src); return this; }
+
     }
 
 }
\ No newline at end of file
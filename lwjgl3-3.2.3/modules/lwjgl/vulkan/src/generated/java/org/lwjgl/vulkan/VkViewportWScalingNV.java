@@ -208,6 +208,24 @@ public class VkViewportWScalingNV extends Struct implements NativeResource {
         return wrap(VkViewportWScalingNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkViewportWScalingNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkViewportWScalingNV malloc(MemoryArena arena) {
+        return wrap(VkViewportWScalingNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkViewportWScalingNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkViewportWScalingNV calloc(MemoryArena arena) {
+        return wrap(VkViewportWScalingNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkViewportWScalingNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -246,6 +264,26 @@ public class VkViewportWScalingNV extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkViewportWScalingNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkViewportWScalingNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkViewportWScalingNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkViewportWScalingNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #xcoeff}. */
@@ -306,6 +344,24 @@ public class VkViewportWScalingNV extends Struct implements NativeResource {
         /** Sets the specified value to the {@code ycoeff} field. */
         public VkViewportWScalingNV.Buffer ycoeff(float value) { VkViewportWScalingNV.nycoeff(address(), value); return this; }
 
+        /** Copies the {@code xcoeff} field of the structs between the current position and limit to the specified array. */
+        public VkViewportWScalingNV.Buffer getXcoeff(float[] dst) { gather(VkViewportWScalingNV.XCOEFF, dst); return this; }
+        /** Copies the {@code xcoeff} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewportWScalingNV.Buffer getXcoeff(FloatBuffer dst) { gather(VkViewportWScalingNV.XCOEFF, dst); return this; }
+        /** Copies the {@code ycoeff} field of the structs between the current position and limit to the specified array. */
+        public VkViewportWScalingNV.Buffer getYcoeff(float[] dst) { gather(VkViewportWScalingNV.YCOEFF, dst); return this; }
+        /** Copies the {@code ycoeff} field of the structs between the current position and limit to the specified buffer. */
+        public VkViewportWScalingNV.Buffer getYcoeff(FloatBuffer dst) { gather(VkViewportWScalingNV.YCOEFF, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code xcoeff} field of the structs between the current position and limit. */
+        public VkViewportWScalingNV.Buffer putXcoeff(float[] src) { scatter(VkViewportWScalingNV.XCOEFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code xcoeff} field of the structs between the current position and limit. */
+        public VkViewportWScalingNV.Buffer putXcoeff(FloatBuffer src) { scatter(VkViewportWScalingNV.XCOEFF, src); return this; }
+        /** Copies the values in the specified array to the {@code ycoeff} field of the structs between the current position and limit. */
+        public VkViewportWScalingNV.Buffer putYcoeff(float[] src) { scatter(VkViewportWScalingNV.YCOEFF, src); return this; }
+        /** Copies the values in the specified buffer to the {@code ycoeff} field of the structs between the current position and limit. */
+        public VkViewportWScalingNV.Buffer putYcoeff(FloatBuffer src) { scatter(VkViewportWScalingNV.YCOEFF, src); return this; }
+
     }
 
 }
\ No newline at end of file
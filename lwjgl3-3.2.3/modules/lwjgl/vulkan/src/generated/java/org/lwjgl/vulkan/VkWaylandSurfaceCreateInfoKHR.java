@@ -268,6 +268,24 @@ public class VkWaylandSurfaceCreateInfoKHR extends Struct implements NativeResou
         return wrap(VkWaylandSurfaceCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWaylandSurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWaylandSurfaceCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkWaylandSurfaceCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWaylandSurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWaylandSurfaceCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkWaylandSurfaceCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWaylandSurfaceCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -306,6 +324,26 @@ public class VkWaylandSurfaceCreateInfoKHR extends Struct implements NativeResou
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWaylandSurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWaylandSurfaceCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWaylandSurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWaylandSurfaceCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -417,6 +455,24 @@ public class VkWaylandSurfaceCreateInfoKHR extends Struct implements NativeResou
         /** Sets the specified value to the {@code surface} field. */
         public VkWaylandSurfaceCreateInfoKHR.Buffer surface(@NativeType("struct wl_surface *") long value) { VkWaylandSurfaceCreateInfoKHR.nsurface(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkWaylandSurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkWaylandSurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer getFlags(int[] dst) { gather(VkWaylandSurfaceCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkWaylandSurfaceCreateInfoKHR.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkWaylandSurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkWaylandSurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer putFlags(int[] src) { scatter(VkWaylandSurfaceCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkWaylandSurfaceCreateInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkWaylandSurfaceCreateInfoKHR.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -315,6 +315,24 @@ public class VkWin32KeyedMutexAcquireReleaseInfoKHR extends Struct implements Na
         return wrap(VkWin32KeyedMutexAcquireReleaseInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWin32KeyedMutexAcquireReleaseInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkWin32KeyedMutexAcquireReleaseInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWin32KeyedMutexAcquireReleaseInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkWin32KeyedMutexAcquireReleaseInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -353,6 +371,26 @@ public class VkWin32KeyedMutexAcquireReleaseInfoKHR extends Struct implements Na
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -512,6 +550,32 @@ public class VkWin32KeyedMutexAcquireReleaseInfoKHR extends Struct implements Na
         /** Sets the address of the specified {@link LongBuffer} to the {@code pReleaseKeys} field. */
         public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer pReleaseKeys(@Nullable @NativeType("uint64_t const *") LongBuffer value) { VkWin32KeyedMutexAcquireReleaseInfoKHR.npReleaseKeys(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer getSType(int[] dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code acquireCount} field of the structs between the current position and limit to the specified array. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer getAcquireCount(int[] dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoKHR.ACQUIRECOUNT, dst); return this; }
+        /** Copies the {@code acquireCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer getAcquireCount(IntBuffer dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoKHR.ACQUIRECOUNT, dst); return this; }
+        /** Copies the {@code releaseCount} field of the structs between the current position and limit to the specified array. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer getReleaseCount(int[] dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoKHR.RELEASECOUNT, dst); return this; }
+        /** Copies the {@code releaseCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer getReleaseCount(IntBuffer dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoKHR.RELEASECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer putSType(int[] src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code acquireCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer putAcquireCount(int[] src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoKHR.ACQUIRECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code acquireCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer putAcquireCount(IntBuffer src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoKHR.ACQUIRECOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code releaseCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer putReleaseCount(int[] src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoKHR.RELEASECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code releaseCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoKHR.Buffer putReleaseCount(IntBuffer src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoKHR.RELEASECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
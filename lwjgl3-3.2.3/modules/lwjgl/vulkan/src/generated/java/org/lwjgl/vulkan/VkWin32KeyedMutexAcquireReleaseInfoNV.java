@@ -310,6 +310,24 @@ public class VkWin32KeyedMutexAcquireReleaseInfoNV extends Struct implements Nat
         return wrap(VkWin32KeyedMutexAcquireReleaseInfoNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWin32KeyedMutexAcquireReleaseInfoNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoNV malloc(MemoryArena arena) {
+        return wrap(VkWin32KeyedMutexAcquireReleaseInfoNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWin32KeyedMutexAcquireReleaseInfoNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoNV calloc(MemoryArena arena) {
+        return wrap(VkWin32KeyedMutexAcquireReleaseInfoNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -348,6 +366,26 @@ public class VkWin32KeyedMutexAcquireReleaseInfoNV extends Struct implements Nat
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -507,6 +545,32 @@ public class VkWin32KeyedMutexAcquireReleaseInfoNV extends Struct implements Nat
         /** Sets the address of the specified {@link LongBuffer} to the {@code pReleaseKeys} field. */
         public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer pReleaseKeys(@Nullable @NativeType("uint64_t const *") LongBuffer value) { VkWin32KeyedMutexAcquireReleaseInfoNV.npReleaseKeys(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer getSType(int[] dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer getSType(IntBuffer dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoNV.STYPE, dst); return this; }
+        /** Copies the {@code acquireCount} field of the structs between the current position and limit to the specified array. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer getAcquireCount(int[] dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoNV.ACQUIRECOUNT, dst); return this; }
+        /** Copies the {@code acquireCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer getAcquireCount(IntBuffer dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoNV.ACQUIRECOUNT, dst); return this; }
+        /** Copies the {@code releaseCount} field of the structs between the current position and limit to the specified array. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer getReleaseCount(int[] dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoNV.RELEASECOUNT, dst); return this; }
+        /** Copies the {@code releaseCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer getReleaseCount(IntBuffer dst) { gather(VkWin32KeyedMutexAcquireReleaseInfoNV.RELEASECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer putSType(int[] src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer putSType(IntBuffer src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoNV.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code acquireCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer putAcquireCount(int[] src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoNV.ACQUIRECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code acquireCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer putAcquireCount(IntBuffer src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoNV.ACQUIRECOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code releaseCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer putReleaseCount(int[] src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoNV.RELEASECOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code releaseCount} field of the structs between the current position and limit. */
+        public VkWin32KeyedMutexAcquireReleaseInfoNV.Buffer putReleaseCount(IntBuffer src) { scatter(VkWin32KeyedMutexAcquireReleaseInfoNV.RELEASECOUNT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -268,6 +268,24 @@ public class VkWin32SurfaceCreateInfoKHR extends Struct implements NativeResourc
         return wrap(VkWin32SurfaceCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWin32SurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWin32SurfaceCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkWin32SurfaceCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWin32SurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWin32SurfaceCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkWin32SurfaceCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWin32SurfaceCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -306,6 +324,26 @@ public class VkWin32SurfaceCreateInfoKHR extends Struct implements NativeResourc
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWin32SurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWin32SurfaceCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWin32SurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWin32SurfaceCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -417,6 +455,24 @@ public class VkWin32SurfaceCreateInfoKHR extends Struct implements NativeResourc
         /** Sets the specified value to the {@code hwnd} field. */
         public VkWin32SurfaceCreateInfoKHR.Buffer hwnd(@NativeType("HWND") long value) { VkWin32SurfaceCreateInfoKHR.nhwnd(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkWin32SurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkWin32SurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer getFlags(int[] dst) { gather(VkWin32SurfaceCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkWin32SurfaceCreateInfoKHR.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkWin32SurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkWin32SurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer putFlags(int[] src) { scatter(VkWin32SurfaceCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkWin32SurfaceCreateInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkWin32SurfaceCreateInfoKHR.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -376,6 +376,24 @@ public class VkWriteDescriptorSet extends Struct implements NativeResource {
         return wrap(VkWriteDescriptorSet.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWriteDescriptorSet} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWriteDescriptorSet malloc(MemoryArena arena) {
+        return wrap(VkWriteDescriptorSet.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWriteDescriptorSet} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWriteDescriptorSet calloc(MemoryArena arena) {
+        return wrap(VkWriteDescriptorSet.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWriteDescriptorSet.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -414,6 +432,26 @@ public class VkWriteDescriptorSet extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWriteDescriptorSet.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWriteDescriptorSet.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWriteDescriptorSet.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWriteDescriptorSet.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -551,6 +589,56 @@ public class VkWriteDescriptorSet extends Struct implements NativeResource {
         /** Sets the address of the specified {@link LongBuffer} to the {@code pTexelBufferView} field. */
         public VkWriteDescriptorSet.Buffer pTexelBufferView(@Nullable @NativeType("VkBufferView const *") LongBuffer value) { VkWriteDescriptorSet.npTexelBufferView(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSet.Buffer getSType(int[] dst) { gather(VkWriteDescriptorSet.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSet.Buffer getSType(IntBuffer dst) { gather(VkWriteDescriptorSet.STYPE, dst); return this; }
+        /** Copies the {@code dstSet} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSet.Buffer getDstSet(long[] dst) { gather(VkWriteDescriptorSet.DSTSET, dst); return this; }
+        /** Copies the {@code dstSet} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSet.Buffer getDstSet(LongBuffer dst) { gather(VkWriteDescriptorSet.DSTSET, dst); return this; }
+        /** Copies the {@code dstBinding} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSet.Buffer getDstBinding(int[] dst) { gather(VkWriteDescriptorSet.DSTBINDING, dst); return this; }
+        /** Copies the {@code dstBinding} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSet.Buffer getDstBinding(IntBuffer dst) { gather(VkWriteDescriptorSet.DSTBINDING, dst); return this; }
+        /** Copies the {@code dstArrayElement} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSet.Buffer getDstArrayElement(int[] dst) { gather(VkWriteDescriptorSet.DSTARRAYELEMENT, dst); return this; }
+        /** Copies the {@code dstArrayElement} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSet.Buffer getDstArrayElement(IntBuffer dst) { gather(VkWriteDescriptorSet.DSTARRAYELEMENT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSet.Buffer getDescriptorCount(int[] dst) { gather(VkWriteDescriptorSet.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSet.Buffer getDescriptorCount(IntBuffer dst) { gather(VkWriteDescriptorSet.DESCRIPTORCOUNT, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSet.Buffer getDescriptorType(int[] dst) { gather(VkWriteDescriptorSet.DESCRIPTORTYPE, dst); return this; }
+        /** Copies the {@code descriptorType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSet.Buffer getDescriptorType(IntBuffer dst) { gather(VkWriteDescriptorSet.DESCRIPTORTYPE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putSType(int[] src) { scatter(VkWriteDescriptorSet.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putSType(IntBuffer src) { scatter(VkWriteDescriptorSet.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code dstSet} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDstSet(long[] src) { scatter(VkWriteDescriptorSet.DSTSET, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstSet} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDstSet(LongBuffer src) { scatter(VkWriteDescriptorSet.DSTSET, src); return this; }
+        /** Copies the values in the specified array to the {@code dstBinding} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDstBinding(int[] src) { scatter(VkWriteDescriptorSet.DSTBINDING, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstBinding} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDstBinding(IntBuffer src) { scatter(VkWriteDescriptorSet.DSTBINDING, src); return this; }
+        /** Copies the values in the specified array to the {@code dstArrayElement} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDstArrayElement(int[] src) { scatter(VkWriteDescriptorSet.DSTARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dstArrayElement} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDstArrayElement(IntBuffer src) { scatter(VkWriteDescriptorSet.DSTARRAYELEMENT, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDescriptorCount(int[] src) { scatter(VkWriteDescriptorSet.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorCount} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDescriptorCount(IntBuffer src) { scatter(VkWriteDescriptorSet.DESCRIPTORCOUNT, src); return this; }
+        /** Copies the values in the specified array to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDescriptorType(int[] src) { scatter(VkWriteDescriptorSet.DESCRIPTORTYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code descriptorType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSet.Buffer putDescriptorType(IntBuffer src) { scatter(VkWriteDescriptorSet.DESCRIPTORTYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
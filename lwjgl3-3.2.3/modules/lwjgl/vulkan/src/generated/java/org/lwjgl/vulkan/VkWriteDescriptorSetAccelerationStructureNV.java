@@ -246,6 +246,24 @@ public class VkWriteDescriptorSetAccelerationStructureNV extends Struct implemen
         return wrap(VkWriteDescriptorSetAccelerationStructureNV.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWriteDescriptorSetAccelerationStructureNV} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetAccelerationStructureNV malloc(MemoryArena arena) {
+        return wrap(VkWriteDescriptorSetAccelerationStructureNV.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWriteDescriptorSetAccelerationStructureNV} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetAccelerationStructureNV calloc(MemoryArena arena) {
+        return wrap(VkWriteDescriptorSetAccelerationStructureNV.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWriteDescriptorSetAccelerationStructureNV.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -284,6 +302,26 @@ public class VkWriteDescriptorSetAccelerationStructureNV extends Struct implemen
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWriteDescriptorSetAccelerationStructureNV.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetAccelerationStructureNV.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWriteDescriptorSetAccelerationStructureNV.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetAccelerationStructureNV.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -383,6 +421,20 @@ public class VkWriteDescriptorSetAccelerationStructureNV extends Struct implemen
         /** Sets the address of the specified {@link LongBuffer} to the {@code pAccelerationStructures} field. */
         public VkWriteDescriptorSetAccelerationStructureNV.Buffer pAccelerationStructures(@NativeType("VkAccelerationStructureNV const *") LongBuffer value) { VkWriteDescriptorSetAccelerationStructureNV.npAccelerationStructures(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSetAccelerationStructureNV.Buffer getSType(int[] dst) { gather(VkWriteDescriptorSetAccelerationStructureNV.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSetAccelerationStructureNV.Buffer getSType(IntBuffer dst) { gather(VkWriteDescriptorSetAccelerationStructureNV.STYPE, dst); return this; }
+        /** Copies the {@code accelerationStructureCount} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSetAccelerationStructureNV.Buffer getAccelerationStructureCount(int[] dst) { gather(VkWriteDescriptorSetAccelerationStructureNV.ACCELERATIONSTRUCTURECOUNT, dst); return this; }
+        /** Copies the {@code accelerationStructureCount} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSetAccelerationStructureNV.Buffer getAccelerationStructureCount(IntBuffer dst) { gather(VkWriteDescriptorSetAccelerationStructureNV.ACCELERATIONSTRUCTURECOUNT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSetAccelerationStructureNV.Buffer putSType(int[] src) { scatter(VkWriteDescriptorSetAccelerationStructureNV.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSetAccelerationStructureNV.Buffer putSType(IntBuffer src) { scatter(VkWriteDescriptorSetAccelerationStructureNV.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -245,6 +245,24 @@ public class VkWriteDescriptorSetInlineUniformBlockEXT extends Struct implements
         return wrap(VkWriteDescriptorSetInlineUniformBlockEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkWriteDescriptorSetInlineUniformBlockEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetInlineUniformBlockEXT malloc(MemoryArena arena) {
+        return wrap(VkWriteDescriptorSetInlineUniformBlockEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkWriteDescriptorSetInlineUniformBlockEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetInlineUniformBlockEXT calloc(MemoryArena arena) {
+        return wrap(VkWriteDescriptorSetInlineUniformBlockEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkWriteDescriptorSetInlineUniformBlockEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -283,6 +301,26 @@ public class VkWriteDescriptorSetInlineUniformBlockEXT extends Struct implements
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkWriteDescriptorSetInlineUniformBlockEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetInlineUniformBlockEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkWriteDescriptorSetInlineUniformBlockEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkWriteDescriptorSetInlineUniformBlockEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -382,6 +420,20 @@ public class VkWriteDescriptorSetInlineUniformBlockEXT extends Struct implements
         /** Sets the address of the specified {@link ByteBuffer} to the {@code pData} field. */
         public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer pData(@NativeType("void const *") ByteBuffer value) { VkWriteDescriptorSetInlineUniformBlockEXT.npData(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer getSType(int[] dst) { gather(VkWriteDescriptorSetInlineUniformBlockEXT.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer getSType(IntBuffer dst) { gather(VkWriteDescriptorSetInlineUniformBlockEXT.STYPE, dst); return this; }
+        /** Copies the {@code dataSize} field of the structs between the current position and limit to the specified array. */
+        public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer getDataSize(int[] dst) { gather(VkWriteDescriptorSetInlineUniformBlockEXT.DATASIZE, dst); return this; }
+        /** Copies the {@code dataSize} field of the structs between the current position and limit to the specified buffer. */
+        public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer getDataSize(IntBuffer dst) { gather(VkWriteDescriptorSetInlineUniformBlockEXT.DATASIZE, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer putSType(int[] src) { scatter(VkWriteDescriptorSetInlineUniformBlockEXT.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkWriteDescriptorSetInlineUniformBlockEXT.Buffer putSType(IntBuffer src) { scatter(VkWriteDescriptorSetInlineUniformBlockEXT.STYPE, src); return this; }
+
     }
 
 }
\ No newline at end of file
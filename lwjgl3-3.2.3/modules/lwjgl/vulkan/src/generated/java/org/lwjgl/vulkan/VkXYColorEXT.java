@@ -201,6 +201,24 @@ public class VkXYColorEXT extends Struct implements NativeResource {
         return wrap(VkXYColorEXT.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkXYColorEXT} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkXYColorEXT malloc(MemoryArena arena) {
+        return wrap(VkXYColorEXT.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkXYColorEXT} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkXYColorEXT calloc(MemoryArena arena) {
+        return wrap(VkXYColorEXT.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkXYColorEXT.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -239,6 +257,26 @@ public class VkXYColorEXT extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkXYColorEXT.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkXYColorEXT.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkXYColorEXT.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkXYColorEXT.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #x}. */
@@ -299,6 +337,24 @@ public class VkXYColorEXT extends Struct implements NativeResource {
         /** Sets the specified value to the {@code y} field. */
         public VkXYColorEXT.Buffer y(float value) { VkXYColorEXT.ny(address(), value); return this; }
 
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified array. */
+        public VkXYColorEXT.Buffer getX(float[] dst) { gather(VkXYColorEXT.X, dst); return this; }
+        /** Copies the {@code x} field of the structs between the current position and limit to the specified buffer. */
+        public VkXYColorEXT.Buffer getX(FloatBuffer dst) { gather(VkXYColorEXT.X, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified array. */
+        public VkXYColorEXT.Buffer getY(float[] dst) { gather(VkXYColorEXT.Y, dst); return this; }
+        /** Copies the {@code y} field of the structs between the current position and limit to the specified buffer. */
+        public VkXYColorEXT.Buffer getY(FloatBuffer dst) { gather(VkXYColorEXT.Y, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code x} field of the structs between the current position and limit. */
+        public VkXYColorEXT.Buffer putX(float[] src) { scatter(VkXYColorEXT.X, src); return this; }
+        /** Copies the values in the specified buffer to the {@code x} field of the structs between the current position and limit. */
+        public VkXYColorEXT.Buffer putX(FloatBuffer src) { scatter(VkXYColorEXT.X, src); return this; }
+        /** Copies the values in the specified array to the {@code y} field of the structs between the current position and limit. */
+        public VkXYColorEXT.Buffer putY(float[] src) { scatter(VkXYColorEXT.Y, src); return this; }
+        /** Copies the values in the specified buffer to the {@code y} field of the structs between the current position and limit. */
+        public VkXYColorEXT.Buffer putY(FloatBuffer src) { scatter(VkXYColorEXT.Y, src); return this; }
+
     }
 
 }
\ No newline at end of file
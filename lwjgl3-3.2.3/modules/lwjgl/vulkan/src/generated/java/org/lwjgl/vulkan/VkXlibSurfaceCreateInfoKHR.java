@@ -268,6 +268,24 @@ public class VkXlibSurfaceCreateInfoKHR extends Struct implements NativeResource
         return wrap(VkXlibSurfaceCreateInfoKHR.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code VkXlibSurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkXlibSurfaceCreateInfoKHR malloc(MemoryArena arena) {
+        return wrap(VkXlibSurfaceCreateInfoKHR.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code VkXlibSurfaceCreateInfoKHR} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static VkXlibSurfaceCreateInfoKHR calloc(MemoryArena arena) {
+        return wrap(VkXlibSurfaceCreateInfoKHR.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link VkXlibSurfaceCreateInfoKHR.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -306,6 +324,26 @@ public class VkXlibSurfaceCreateInfoKHR extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link VkXlibSurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkXlibSurfaceCreateInfoKHR.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link VkXlibSurfaceCreateInfoKHR.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static VkXlibSurfaceCreateInfoKHR.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #sType}. */
@@ -416,6 +454,24 @@ public class VkXlibSurfaceCreateInfoKHR extends Struct implements NativeResource
         /** Sets the specified value to the {@code window} field. */
         public VkXlibSurfaceCreateInfoKHR.Buffer window(@NativeType("Window") long value) { VkXlibSurfaceCreateInfoKHR.nwindow(address(), value); return this; }
 
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified array. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer getSType(int[] dst) { gather(VkXlibSurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code sType} field of the structs between the current position and limit to the specified buffer. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer getSType(IntBuffer dst) { gather(VkXlibSurfaceCreateInfoKHR.STYPE, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified array. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer getFlags(int[] dst) { gather(VkXlibSurfaceCreateInfoKHR.FLAGS, dst); return this; }
+        /** Copies the {@code flags} field of the structs between the current position and limit to the specified buffer. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer getFlags(IntBuffer dst) { gather(VkXlibSurfaceCreateInfoKHR.FLAGS, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code sType} field of the structs between the current position and limit. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer putSType(int[] src) { scatter(VkXlibSurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code sType} field of the structs between the current position and limit. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer putSType(IntBuffer src) { scatter(VkXlibSurfaceCreateInfoKHR.STYPE, src); return this; }
+        /** Copies the values in the specified array to the {@code flags} field of the structs between the current position and limit. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer putFlags(int[] src) { scatter(VkXlibSurfaceCreateInfoKHR.FLAGS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code flags} field of the structs between the current position and limit. */
+        public VkXlibSurfaceCreateInfoKHR.Buffer putFlags(IntBuffer src) { scatter(VkXlibSurfaceCreateInfoKHR.FLAGS, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -174,6 +174,24 @@ public class XXH128Hash extends Struct implements NativeResource {
         return wrap(XXH128Hash.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XXH128Hash} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH128Hash malloc(MemoryArena arena) {
+        return wrap(XXH128Hash.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XXH128Hash} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH128Hash calloc(MemoryArena arena) {
+        return wrap(XXH128Hash.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XXH128Hash.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -212,6 +230,26 @@ public class XXH128Hash extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XXH128Hash.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH128Hash.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XXH128Hash.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH128Hash.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #low64}. */
@@ -264,6 +302,15 @@ public class XXH128Hash extends Struct implements NativeResource {
         @NativeType("XXH32_hash_t")
         public long high64() { return XXH128Hash.nhigh64(address()); }
 
+        /** Copies the {@code low64} field of the structs between the current position and limit to the specified array. */
+        public XXH128Hash.Buffer getLow64(long[] dst) { gather(XXH128Hash.LOW64, dst); return this; }
+        /** Copies the {@code low64} field of the structs between the current position and limit to the specified buffer. */
+        public XXH128Hash.Buffer getLow64(LongBuffer dst) { gather(XXH128Hash.LOW64, dst); return this; }
+        /** Copies the {@code high64} field of the structs between the current position and limit to the specified array. */
+        public XXH128Hash.Buffer getHigh64(long[] dst) { gather(XXH128Hash.HIGH64, dst); return this; }
+        /** Copies the {@code high64} field of the structs between the current position and limit to the specified buffer. */
+        public XXH128Hash.Buffer getHigh64(LongBuffer dst) { gather(XXH128Hash.HIGH64, dst); return this; }
+
     }
 
 }
\ No newline at end of file
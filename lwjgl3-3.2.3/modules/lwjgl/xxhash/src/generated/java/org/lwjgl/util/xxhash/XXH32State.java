@@ -229,6 +229,24 @@ public class XXH32State extends Struct implements NativeResource {
         return wrap(XXH32State.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XXH32State} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH32State malloc(MemoryArena arena) {
+        return wrap(XXH32State.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XXH32State} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH32State calloc(MemoryArena arena) {
+        return wrap(XXH32State.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XXH32State.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -267,6 +285,26 @@ public class XXH32State extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XXH32State.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH32State.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XXH32State.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH32State.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #total_len_32}. */
@@ -361,6 +399,39 @@ public class XXH32State extends Struct implements NativeResource {
         @NativeType("XXH32_hash_t")
         public int reserved() { return XXH32State.nreserved(address()); }
 
+        /** Copies the {@code total_len_32} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getTotal_len_32(int[] dst) { gather(XXH32State.TOTAL_LEN_32, dst); return this; }
+        /** Copies the {@code total_len_32} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getTotal_len_32(IntBuffer dst) { gather(XXH32State.TOTAL_LEN_32, dst); return this; }
+        /** Copies the {@code large_len} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getLarge_len(int[] dst) { gather(XXH32State.LARGE_LEN, dst); return this; }
+        /** Copies the {@code large_len} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getLarge_len(IntBuffer dst) { gather(XXH32State.LARGE_LEN, dst); return this; }
+        /** Copies the {@code v1} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getV1(int[] dst) { gather(XXH32State.V1, dst); return this; }
+        /** Copies the {@code v1} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getV1(IntBuffer dst) { gather(XXH32State.V1, dst); return this; }
+        /** Copies the {@code v2} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getV2(int[] dst) { gather(XXH32State.V2, dst); return this; }
+        /** Copies the {@code v2} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getV2(IntBuffer dst) { gather(XXH32State.V2, dst); return this; }
+        /** Copies the {@code v3} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getV3(int[] dst) { gather(XXH32State.V3, dst); return this; }
+        /** Copies the {@code v3} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getV3(IntBuffer dst) { gather(XXH32State.V3, dst); return this; }
+        /** Copies the {@code v4} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getV4(int[] dst) { gather(XXH32State.V4, dst); return this; }
+        /** Copies the {@code v4} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getV4(IntBuffer dst) { gather(XXH32State.V4, dst); return this; }
+        /** Copies the {@code memsize} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getMemsize(int[] dst) { gather(XXH32State.MEMSIZE, dst); return this; }
+        /** Copies the {@code memsize} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getMemsize(IntBuffer dst) { gather(XXH32State.MEMSIZE, dst); return this; }
+        /** Copies the {@code reserved} field of the structs between the current position and limit to the specified array. */
+        public XXH32State.Buffer getReserved(int[] dst) { gather(XXH32State.RESERVED, dst); return this; }
+        /** Copies the {@code reserved} field of the structs between the current position and limit to the specified buffer. */
+        public XXH32State.Buffer getReserved(IntBuffer dst) { gather(XXH32State.RESERVED, dst); return this; }
+
     }
 
 }
\ No newline at end of file
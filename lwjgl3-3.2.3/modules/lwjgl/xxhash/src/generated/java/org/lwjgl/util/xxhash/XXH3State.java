@@ -267,6 +267,24 @@ public class XXH3State extends Struct implements NativeResource {
         return wrap(XXH3State.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XXH3State} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH3State malloc(MemoryArena arena) {
+        return wrap(XXH3State.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XXH3State} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH3State calloc(MemoryArena arena) {
+        return wrap(XXH3State.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XXH3State.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -305,6 +323,26 @@ public class XXH3State extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XXH3State.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH3State.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XXH3State.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH3State.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #acc}. */
@@ -437,6 +475,43 @@ public class XXH3State extends Struct implements NativeResource {
         @NativeType("XXH32_hash_t")
         public long reserved64() { return XXH3State.nreserved64(address()); }
 
+        /** Copies the {@code bufferedSize} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getBufferedSize(int[] dst) { gather(XXH3State.BUFFEREDSIZE, dst); return this; }
+        /** Copies the {@code bufferedSize} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getBufferedSize(IntBuffer dst) { gather(XXH3State.BUFFEREDSIZE, dst); return this; }
+        /** Copies the {@code nbStripesPerBlock} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getNbStripesPerBlock(int[] dst) { gather(XXH3State.NBSTRIPESPERBLOCK, dst); return this; }
+        /** Copies the {@code nbStripesPerBlock} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getNbStripesPerBlock(IntBuffer dst) { gather(XXH3State.NBSTRIPESPERBLOCK, dst); return this; }
+        /** Copies the {@code nbStripesSoFar} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getNbStripesSoFar(int[] dst) { gather(XXH3State.NBSTRIPESSOFAR, dst); return this; }
+        /** Copies the {@code nbStripesSoFar} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getNbStripesSoFar(IntBuffer dst) { gather(XXH3State.NBSTRIPESSOFAR, dst); return this; }
+        /** Copies the {@code reserved32} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getReserved32(int[] dst) { gather(XXH3State.RESERVED32, dst); return this; }
+        /** Copies the {@code reserved32} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getReserved32(IntBuffer dst) { gather(XXH3State.RESERVED32, dst); return this; }
+        /** Copies the {@code reserved32_2} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getReserved32_2(int[] dst) { gather(XXH3State.RESERVED32_2, dst); return this; }
+        /** Copies the {@code reserved32_2} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getReserved32_2(IntBuffer dst) { gather(XXH3State.RESERVED32_2, dst); return this; }
+        /** Copies the {@code secretLimit} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getSecretLimit(int[] dst) { gather(XXH3State.SECRETLIMIT, dst); return this; }
+        /** Copies the {@code secretLimit} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getSecretLimit(IntBuffer dst) { gather(XXH3State.SECRETLIMIT, dst); return this; }
+        /** Copies the {@code totalLen} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getTotalLen(long[] dst) { gather(XXH3State.TOTALLEN, dst); return this; }
+        /** Copies the {@code totalLen} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getTotalLen(LongBuffer dst) { gather(XXH3State.TOTALLEN, dst); return this; }
+        /** Copies the {@code seed} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getSeed(long[] dst) { gather(XXH3State.SEED, dst); return this; }
+        /** Copies the {@code seed} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getSeed(LongBuffer dst) { gather(XXH3State.SEED, dst); return this; }
+        /** Copies the {@code reserved64} field of the structs between the current position and limit to the specified array. */
+        public XXH3State.Buffer getReserved64(long[] dst) { gather(XXH3State.RESERVED64, dst); return this; }
+        /** Copies the {@code reserved64} field of the structs between the current position and limit to the specified buffer. */
+        public XXH3State.Buffer getReserved64(LongBuffer dst) { gather(XXH3State.RESERVED64, dst); return this; }
+
     }
 
 }
\ No newline at end of file
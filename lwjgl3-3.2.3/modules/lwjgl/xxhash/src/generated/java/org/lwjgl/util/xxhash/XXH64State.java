@@ -225,6 +225,24 @@ public class XXH64State extends Struct implements NativeResource {
         return wrap(XXH64State.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code XXH64State} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH64State malloc(MemoryArena arena) {
+        return wrap(XXH64State.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code XXH64State} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static XXH64State calloc(MemoryArena arena) {
+        return wrap(XXH64State.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link XXH64State.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -263,6 +281,26 @@ public class XXH64State extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link XXH64State.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH64State.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link XXH64State.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static XXH64State.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #total_len}. */
@@ -359,6 +397,31 @@ public class XXH64State extends Struct implements NativeResource {
         @NativeType("XXH32_hash_t")
         public int reserved(int index) { return XXH64State.nreserved(address(), index); }
 
+        /** Copies the {@code total_len} field of the structs between the current position and limit to the specified array. */
+        public XXH64State.Buffer getTotal_len(long[] dst) { gather(XXH64State.TOTAL_LEN, dst); return this; }
+        /** Copies the {@code total_len} field of the structs between the current position and limit to the specified buffer. */
+        public XXH64State.Buffer getTotal_len(LongBuffer dst) { gather(XXH64State.TOTAL_LEN, dst); return this; }
+        /** Copies the {@code v1} field of the structs between the current position and limit to the specified array. */
+        public XXH64State.Buffer getV1(long[] dst) { gather(XXH64State.V1, dst); return this; }
+        /** Copies the {@code v1} field of the structs between the current position and limit to the specified buffer. */
+        public XXH64State.Buffer getV1(LongBuffer dst) { gather(XXH64State.V1, dst); return this; }
+        /** Copies the {@code v2} field of the structs between the current position and limit to the specified array. */
+        public XXH64State.Buffer getV2(long[] dst) { gather(XXH64State.V2, dst); return this; }
+        /** Copies the {@code v2} field of the structs between the current position and limit to the specified buffer. */
+        public XXH64State.Buffer getV2(LongBuffer dst) { gather(XXH64State.V2, dst); return this; }
+        /** Copies the {@code v3} field of the structs between the current position and limit to the specified array. */
+        public XXH64State.Buffer getV3(long[] dst) { gather(XXH64State.V3, dst); return this; }
+        /** Copies the {@code v3} field of the structs between the current position and limit to the specified buffer. */
+        public XXH64State.Buffer getV3(LongBuffer dst) { gather(XXH64State.V3, dst); return this; }
+        /** Copies the {@code v4} field of the structs between the current position and limit to the specified array. */
+        public XXH64State.Buffer getV4(long[] dst) { gather(XXH64State.V4, dst); return this; }
+        /** Copies the {@code v4} field of the structs between the current position and limit to the specified buffer. */
+        public XXH64State.Buffer getV4(LongBuffer dst) { gather(XXH64State.V4, dst); return this; }
+        /** Copies the {@code memsize} field of the structs between the current position and limit to the specified array. */
+        public XXH64State.Buffer getMemsize(int[] dst) { gather(XXH64State.MEMSIZE, dst); return this; }
+        /** Copies the {@code memsize} field of the structs between the current position and limit to the specified buffer. */
+        public XXH64State.Buffer getMemsize(IntBuffer dst) { gather(XXH64State.MEMSIZE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
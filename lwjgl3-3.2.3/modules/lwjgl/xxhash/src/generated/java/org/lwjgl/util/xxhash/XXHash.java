@@ -69,6 +69,8 @@ public class XXHash {
 
     public static final int XXH_3_SECRET_SIZE_MIN = 0x88;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(XXHash.class, "XXH32,XXH32_createState,XXH32_freeState,XXH32_copyState,XXH32_reset,XXH32_update,XXH32_digest,XXH32_canonicalFromHash,XXH32_hashFromCanonical,XXH64,XXH64_createState,XXH64_freeState,XXH64_copyState,XXH64_reset,XXH64_update,XXH64_digest,XXH64_canonicalFromHash,XXH64_hashFromCanonical,XXH3_64bits,XXH3_64bits_withSecret,XXH3_64bits_withSeed,XXH3_createState,XXH3_freeState,XXH3_copyState,XXH3_64bits_reset,XXH3_64bits_reset_withSeed,XXH3_64bits_reset_withSecret,XXH3_64bits_update,XXH3_64bits_digest,XXH128,XXH3_128bits,XXH3_128bits_withSeed,XXH3_128bits_withSecret,XXH3_128bits_reset,XXH3_128bits_reset_withSeed,XXH3_128bits_reset_withSecret,XXH3_128bits_update,XXH3_128bits_digest,XXH128_isEqual,XXH128_cmp,XXH128_canonicalFromHash,XXH128_hashFromCanonical");
+
     static { LibXXHash.initialize(); }
 
     protected XXHash() {
@@ -92,7 +94,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static int XXH32(@NativeType("void const *") ByteBuffer input, @NativeType("unsigned int") int seed) {
-        return nXXH32(memAddress(input), input.remaining(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nXXH32(memAddress(input), input.remaining(), seed));
     }
 
     // --- [ XXH32_createState ] ---
@@ -108,7 +111,8 @@ public class XXHash {
     @Nullable
     @NativeType("XXH32_state_t *")
     public static XXH32State XXH32_createState() {
-        long __result = nXXH32_createState();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 1, __start, nXXH32_createState());
         return XXH32State.createSafe(__result);
     }
 
@@ -124,7 +128,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH32_freeState(@NativeType("XXH32_state_t *") XXH32State statePtr) {
-        return nXXH32_freeState(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nXXH32_freeState(statePtr.address()));
     }
 
     // --- [ XXH32_copyState ] ---
@@ -132,7 +137,9 @@ public class XXHash {
     public static native void nXXH32_copyState(long dst_state, long src_state);
 
     public static void XXH32_copyState(@NativeType("XXH32_state_t *") XXH32State dst_state, @NativeType("XXH32_state_t const *") XXH32State src_state) {
+        long __start = FunctionProfiler.start();
         nXXH32_copyState(dst_state.address(), src_state.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ XXH32_reset ] ---
@@ -148,7 +155,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH32_reset(@NativeType("XXH32_state_t *") XXH32State statePtr, @NativeType("unsigned int") int seed) {
-        return nXXH32_reset(statePtr.address(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nXXH32_reset(statePtr.address(), seed));
     }
 
     // --- [ XXH32_update ] ---
@@ -183,7 +191,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH32_update(@NativeType("XXH32_state_t *") XXH32State statePtr, @NativeType("void const *") ByteBuffer input) {
-        return nXXH32_update(statePtr.address(), memAddress(input), input.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nXXH32_update(statePtr.address(), memAddress(input), input.remaining()));
     }
 
     // --- [ XXH32_digest ] ---
@@ -198,7 +207,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static int XXH32_digest(@NativeType("XXH32_state_t const *") XXH32State statePtr) {
-        return nXXH32_digest(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nXXH32_digest(statePtr.address()));
     }
 
     // --- [ XXH32_canonicalFromHash ] ---
@@ -216,7 +226,9 @@ public class XXHash {
      * @param hash the source hash
      */
     public static void XXH32_canonicalFromHash(@NativeType("XXH32_canonical_t *") XXH32Canonical dst, @NativeType("XXH32_hash_t") int hash) {
+        long __start = FunctionProfiler.start();
         nXXH32_canonicalFromHash(dst.address(), hash);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ XXH32_hashFromCanonical ] ---
@@ -231,7 +243,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static int XXH32_hashFromCanonical(@NativeType("XXH32_canonical_t const *") XXH32Canonical src) {
-        return nXXH32_hashFromCanonical(src.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nXXH32_hashFromCanonical(src.address()));
     }
 
     // --- [ XXH64 ] ---
@@ -253,7 +266,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static long XXH64(@NativeType("void const *") ByteBuffer input, @NativeType("unsigned long long") long seed) {
-        return nXXH64(memAddress(input), input.remaining(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nXXH64(memAddress(input), input.remaining(), seed));
     }
 
     // --- [ XXH64_createState ] ---
@@ -265,7 +279,8 @@ public class XXHash {
     @Nullable
     @NativeType("XXH64_state_t *")
     public static XXH64State XXH64_createState() {
-        long __result = nXXH64_createState();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 10, __start, nXXH64_createState());
         return XXH64State.createSafe(__result);
     }
 
@@ -281,7 +296,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH64_freeState(@NativeType("XXH64_state_t *") XXH64State statePtr) {
-        return nXXH64_freeState(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nXXH64_freeState(statePtr.address()));
     }
 
     // --- [ XXH64_copyState ] ---
@@ -289,7 +305,9 @@ public class XXHash {
     public static native void nXXH64_copyState(long dst_state, long src_state);
 
     public static void XXH64_copyState(@NativeType("XXH64_state_t *") XXH64State dst_state, @NativeType("XXH64_state_t const *") XXH64State src_state) {
+        long __start = FunctionProfiler.start();
         nXXH64_copyState(dst_state.address(), src_state.address());
+        FunctionProfiler.end(PROFILE_ID + 12, __start);
     }
 
     // --- [ XXH64_reset ] ---
@@ -305,7 +323,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH64_reset(@NativeType("XXH64_state_t *") XXH64State statePtr, @NativeType("unsigned long long") long seed) {
-        return nXXH64_reset(statePtr.address(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nXXH64_reset(statePtr.address(), seed));
     }
 
     // --- [ XXH64_update ] ---
@@ -325,7 +344,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH64_update(@NativeType("XXH64_state_t *") XXH64State statePtr, @NativeType("void const *") ByteBuffer input) {
-        return nXXH64_update(statePtr.address(), memAddress(input), input.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nXXH64_update(statePtr.address(), memAddress(input), input.remaining()));
     }
 
     // --- [ XXH64_digest ] ---
@@ -340,7 +360,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static long XXH64_digest(@NativeType("XXH64_state_t const *") XXH64State statePtr) {
-        return nXXH64_digest(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nXXH64_digest(statePtr.address()));
     }
 
     // --- [ XXH64_canonicalFromHash ] ---
@@ -355,7 +376,9 @@ public class XXHash {
      * @param hash the source hash
      */
     public static void XXH64_canonicalFromHash(@NativeType("XXH64_canonical_t *") XXH64Canonical dst, @NativeType("XXH32_hash_t") long hash) {
+        long __start = FunctionProfiler.start();
         nXXH64_canonicalFromHash(dst.address(), hash);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ XXH64_hashFromCanonical ] ---
@@ -370,7 +393,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static long XXH64_hashFromCanonical(@NativeType("XXH64_canonical_t const *") XXH64Canonical src) {
-        return nXXH64_hashFromCanonical(src.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nXXH64_hashFromCanonical(src.address()));
     }
 
     // --- [ XXH3_64bits ] ---
@@ -385,7 +409,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static long XXH3_64bits(@NativeType("void const *") ByteBuffer data) {
-        return nXXH3_64bits(memAddress(data), data.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nXXH3_64bits(memAddress(data), data.remaining()));
     }
 
     // --- [ XXH3_64bits_withSecret ] ---
@@ -402,7 +427,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static long XXH3_64bits_withSecret(@NativeType("void const *") ByteBuffer data, @NativeType("void const *") ByteBuffer secret) {
-        return nXXH3_64bits_withSecret(memAddress(data), data.remaining(), memAddress(secret), secret.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nXXH3_64bits_withSecret(memAddress(data), data.remaining(), memAddress(secret), secret.remaining()));
     }
 
     // --- [ XXH3_64bits_withSeed ] ---
@@ -417,7 +443,8 @@ public class XXHash {
      */
     @NativeType("XXH32_hash_t")
     public static long XXH3_64bits_withSeed(@NativeType("void const *") ByteBuffer data, @NativeType("XXH32_hash_t") long seed) {
-        return nXXH3_64bits_withSeed(memAddress(data), data.remaining(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nXXH3_64bits_withSeed(memAddress(data), data.remaining(), seed));
     }
 
     // --- [ XXH3_createState ] ---
@@ -427,7 +454,8 @@ public class XXHash {
     @Nullable
     @NativeType("XXH3_state_t *")
     public static XXH3State XXH3_createState() {
-        long __result = nXXH3_createState();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 21, __start, nXXH3_createState());
         return XXH3State.createSafe(__result);
     }
 
@@ -437,7 +465,8 @@ public class XXHash {
 
     @NativeType("XXH_errorcode")
     public static int XXH3_freeState(@NativeType("XXH3_state_t *") XXH3State statePtr) {
-        return nXXH3_freeState(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nXXH3_freeState(statePtr.address()));
     }
 
     // --- [ XXH3_copyState ] ---
@@ -445,7 +474,9 @@ public class XXHash {
     public static native void nXXH3_copyState(long dst_state, long srct_state);
 
     public static void XXH3_copyState(@NativeType("XXH3_state_t *") XXH3State dst_state, @NativeType("XXH3_state_t const *") XXH3State srct_state) {
+        long __start = FunctionProfiler.start();
         nXXH3_copyState(dst_state.address(), srct_state.address());
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ XXH3_64bits_reset ] ---
@@ -460,7 +491,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH3_64bits_reset(@NativeType("XXH3_state_t *") XXH3State statePtr) {
-        return nXXH3_64bits_reset(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nXXH3_64bits_reset(statePtr.address()));
     }
 
     // --- [ XXH3_64bits_reset_withSeed ] ---
@@ -475,7 +507,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH3_64bits_reset_withSeed(@NativeType("XXH3_state_t *") XXH3State statePtr, @NativeType("XXH32_hash_t") long seed) {
-        return nXXH3_64bits_reset_withSeed(statePtr.address(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nXXH3_64bits_reset_withSeed(statePtr.address(), seed));
     }
 
     // --- [ XXH3_64bits_reset_withSecret ] ---
@@ -490,7 +523,8 @@ public class XXHash {
      */
     @NativeType("XXH_errorcode")
     public static int XXH3_64bits_reset_withSecret(@NativeType("XXH3_state_t *") XXH3State statePtr, @NativeType("void const *") ByteBuffer secret) {
-        return nXXH3_64bits_reset_withSecret(statePtr.address(), memAddress(secret), secret.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nXXH3_64bits_reset_withSecret(statePtr.address(), memAddress(secret), secret.remaining()));
     }
 
     // --- [ XXH3_64bits_update ] ---
@@ -499,7 +533,8 @@ public class XXHash {
 
     @NativeType("XXH_errorcode")
     public static int XXH3_64bits_update(@NativeType("XXH3_state_t *") XXH3State statePtr, @NativeType("void const *") ByteBuffer input) {
-        return nXXH3_64bits_update(statePtr.address(), memAddress(input), input.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nXXH3_64bits_update(statePtr.address(), memAddress(input), input.remaining()));
     }
 
     // --- [ XXH3_64bits_digest ] ---
@@ -508,7 +543,8 @@ public class XXHash {
 
     @NativeType("XXH32_hash_t")
     public static long XXH3_64bits_digest(@NativeType("XXH3_state_t const *") XXH3State statePtr) {
-        return nXXH3_64bits_digest(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nXXH3_64bits_digest(statePtr.address()));
     }
 
     // --- [ XXH128 ] ---
@@ -517,7 +553,9 @@ public class XXHash {
 
     @NativeType("XXH128_hash_t")
     public static XXH128Hash XXH128(@NativeType("void const *") ByteBuffer data, @NativeType("XXH32_hash_t") long seed, @NativeType("XXH128_hash_t") XXH128Hash __result) {
+        long __start = FunctionProfiler.start();
         nXXH128(memAddress(data), data.remaining(), seed, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
         return __result;
     }
 
@@ -527,7 +565,9 @@ public class XXHash {
 
     @NativeType("XXH128_hash_t")
     public static XXH128Hash XXH3_128bits(@NativeType("void const *") ByteBuffer data, @NativeType("XXH128_hash_t") XXH128Hash __result) {
+        long __start = FunctionProfiler.start();
         nXXH3_128bits(memAddress(data), data.remaining(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
         return __result;
     }
 
@@ -537,7 +577,9 @@ public class XXHash {
 
     @NativeType("XXH128_hash_t")
     public static XXH128Hash XXH3_128bits_withSeed(@NativeType("void const *") ByteBuffer data, @NativeType("XXH32_hash_t") long seed, @NativeType("XXH128_hash_t") XXH128Hash __result) {
+        long __start = FunctionProfiler.start();
         nXXH3_128bits_withSeed(memAddress(data), data.remaining(), seed, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 31, __start);
         return __result;
     }
 
@@ -547,7 +589,9 @@ public class XXHash {
 
     @NativeType("XXH128_hash_t")
     public static XXH128Hash XXH3_128bits_withSecret(@NativeType("void const *") ByteBuffer data, @NativeType("void const *") ByteBuffer secret, @NativeType("XXH128_hash_t") XXH128Hash __result) {
+        long __start = FunctionProfiler.start();
         nXXH3_128bits_withSecret(memAddress(data), data.remaining(), memAddress(secret), secret.remaining(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
         return __result;
     }
 
@@ -557,7 +601,8 @@ public class XXHash {
 
     @NativeType("XXH_errorcode")
     public static int XXH3_128bits_reset(@NativeType("XXH3_state_t *") XXH3State statePtr) {
-        return nXXH3_128bits_reset(statePtr.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nXXH3_128bits_reset(statePtr.address()));
     }
 
     // --- [ XXH3_128bits_reset_withSeed ] ---
@@ -566,7 +611,8 @@ public class XXHash {
 
     @NativeType("XXH_errorcode")
     public static int XXH3_128bits_reset_withSeed(@NativeType("XXH3_state_t *") XXH3State statePtr, @NativeType("XXH32_hash_t") long seed) {
-        return nXXH3_128bits_reset_withSeed(statePtr.address(), seed);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, nXXH3_128bits_reset_withSeed(statePtr.address(), seed));
     }
 
     // --- [ XXH3_128bits_reset_withSecret ] ---
@@ -575,7 +621,8 @@ public class XXHash {
 
     @NativeType("XXH_errorcode")
     public static int XXH3_128bits_reset_withSecret(@NativeType("XXH3_state_t *") XXH3State statePtr, @NativeType("void const *") ByteBuffer secret) {
-        return nXXH3_128bits_reset_withSecret(statePtr.address(), memAddress(secret), secret.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nXXH3_128bits_reset_withSecret(statePtr.address(), memAddress(secret), secret.remaining()));
     }
 
     // --- [ XXH3_128bits_update ] ---
@@ -584,7 +631,8 @@ public class XXHash {
 
     @NativeType("XXH_errorcode")
     public static int XXH3_128bits_update(@NativeType("XXH3_state_t *") XXH3State statePtr, @NativeType("void const *") ByteBuffer input) {
-        return nXXH3_128bits_update(statePtr.address(), memAddress(input), input.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nXXH3_128bits_update(statePtr.address(), memAddress(input), input.remaining()));
     }
 
     // --- [ XXH3_128bits_digest ] ---
@@ -593,7 +641,9 @@ public class XXHash {
 
     @NativeType("XXH128_hash_t")
     public static XXH128Hash XXH3_128bits_digest(@NativeType("XXH3_state_t const *") XXH3State statePtr, @NativeType("XXH128_hash_t") XXH128Hash __result) {
+        long __start = FunctionProfiler.start();
         nXXH3_128bits_digest(statePtr.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
         return __result;
     }
 
@@ -605,7 +655,8 @@ public class XXHash {
     /** Returns 1 if equal, 0 if different. */
     @NativeType("int")
     public static boolean XXH128_isEqual(@NativeType("XXH128_hash_t") XXH128Hash h1, @NativeType("XXH128_hash_t") XXH128Hash h2) {
-        return nXXH128_isEqual(h1.address(), h2.address()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, nXXH128_isEqual(h1.address(), h2.address())) != 0;
     }
 
     // --- [ XXH128_cmp ] ---
@@ -619,7 +670,8 @@ public class XXHash {
             check(h128_1, XXH128Hash.SIZEOF);
             check(h128_2, XXH128Hash.SIZEOF);
         }
-        return nXXH128_cmp(memAddress(h128_1), memAddress(h128_2));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, nXXH128_cmp(memAddress(h128_1), memAddress(h128_2)));
     }
 
     // --- [ XXH128_canonicalFromHash ] ---
@@ -627,7 +679,9 @@ public class XXHash {
     public static native void nXXH128_canonicalFromHash(long dst, long hash);
 
     public static void XXH128_canonicalFromHash(@NativeType("XXH128_canonical_t *") XXH128Canonical dst, @NativeType("XXH128_hash_t") XXH128Hash hash) {
+        long __start = FunctionProfiler.start();
         nXXH128_canonicalFromHash(dst.address(), hash.address());
+        FunctionProfiler.end(PROFILE_ID + 40, __start);
     }
 
     // --- [ XXH128_hashFromCanonical ] ---
@@ -636,7 +690,9 @@ public class XXHash {
 
     @NativeType("XXH128_hash_t")
     public static XXH128Hash XXH128_hashFromCanonical(@NativeType("XXH128_canonical_t const *") XXH128Canonical src, @NativeType("XXH128_hash_t") XXH128Hash __result) {
+        long __start = FunctionProfiler.start();
         nXXH128_hashFromCanonical(src.address(), __result.address());
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
         return __result;
     }
 
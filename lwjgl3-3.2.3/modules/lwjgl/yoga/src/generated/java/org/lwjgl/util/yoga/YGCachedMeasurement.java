@@ -191,6 +191,31 @@ public class YGCachedMeasurement extends Struct {
         /** Returns the value of the {@code computedHeight} field. */
         public float computedHeight() { return YGCachedMeasurement.ncomputedHeight(address()); }
 
+        /** Copies the {@code availableWidth} field of the structs between the current position and limit to the specified array. */
+        public YGCachedMeasurement.Buffer getAvailableWidth(float[] dst) { gather(YGCachedMeasurement.AVAILABLEWIDTH, dst); return this; }
+        /** Copies the {@code availableWidth} field of the structs between the current position and limit to the specified buffer. */
+        public YGCachedMeasurement.Buffer getAvailableWidth(FloatBuffer dst) { gather(YGCachedMeasurement.AVAILABLEWIDTH, dst); return this; }
+        /** Copies the {@code availableHeight} field of the structs between the current position and limit to the specified array. */
+        public YGCachedMeasurement.Buffer getAvailableHeight(float[] dst) { gather(YGCachedMeasurement.AVAILABLEHEIGHT, dst); return this; }
+        /** Copies the {@code availableHeight} field of the structs between the current position and limit to the specified buffer. */
+        public YGCachedMeasurement.Buffer getAvailableHeight(FloatBuffer dst) { gather(YGCachedMeasurement.AVAILABLEHEIGHT, dst); return this; }
+        /** Copies the {@code widthMeasureMode} field of the structs between the current position and limit to the specified array. */
+        public YGCachedMeasurement.Buffer getWidthMeasureMode(int[] dst) { gather(YGCachedMeasurement.WIDTHMEASUREMODE, dst); return this; }
+        /** Copies the {@code widthMeasureMode} field of the structs between the current position and limit to the specified buffer. */
+        public YGCachedMeasurement.Buffer getWidthMeasureMode(IntBuffer dst) { gather(YGCachedMeasurement.WIDTHMEASUREMODE, dst); return this; }
+        /** Copies the {@code heightMeasureMode} field of the structs between the current position and limit to the specified array. */
+        public YGCachedMeasurement.Buffer getHeightMeasureMode(int[] dst) { gather(YGCachedMeasurement.HEIGHTMEASUREMODE, dst); return this; }
+        /** Copies the {@code heightMeasureMode} field of the structs between the current position and limit to the specified buffer. */
+        public YGCachedMeasurement.Buffer getHeightMeasureMode(IntBuffer dst) { gather(YGCachedMeasurement.HEIGHTMEASUREMODE, dst); return this; }
+        /** Copies the {@code computedWidth} field of the structs between the current position and limit to the specified array. */
+        public YGCachedMeasurement.Buffer getComputedWidth(float[] dst) { gather(YGCachedMeasurement.COMPUTEDWIDTH, dst); return this; }
+        /** Copies the {@code computedWidth} field of the structs between the current position and limit to the specified buffer. */
+        public YGCachedMeasurement.Buffer getComputedWidth(FloatBuffer dst) { gather(YGCachedMeasurement.COMPUTEDWIDTH, dst); return this; }
+        /** Copies the {@code computedHeight} field of the structs between the current position and limit to the specified array. */
+        public YGCachedMeasurement.Buffer getComputedHeight(float[] dst) { gather(YGCachedMeasurement.COMPUTEDHEIGHT, dst); return this; }
+        /** Copies the {@code computedHeight} field of the structs between the current position and limit to the specified buffer. */
+        public YGCachedMeasurement.Buffer getComputedHeight(FloatBuffer dst) { gather(YGCachedMeasurement.COMPUTEDHEIGHT, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -139,6 +139,11 @@ public class YGFloatOptional extends Struct {
         /** Returns the value of the {@code value} field. */
         public float value() { return YGFloatOptional.nvalue(address()); }
 
+        /** Copies the {@code value} field of the structs between the current position and limit to the specified array. */
+        public YGFloatOptional.Buffer getValue(float[] dst) { gather(YGFloatOptional.VALUE, dst); return this; }
+        /** Copies the {@code value} field of the structs between the current position and limit to the specified buffer. */
+        public YGFloatOptional.Buffer getValue(FloatBuffer dst) { gather(YGFloatOptional.VALUE, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -376,6 +376,23 @@ public class YGLayout extends Struct {
         /** Returns a {@link YGCachedMeasurement} view of the {@code cachedLayout} field. */
         public YGCachedMeasurement cachedLayout() { return YGLayout.ncachedLayout(address()); }
 
+        /** Copies the {@code computedFlexBasisGeneration} field of the structs between the current position and limit to the specified array. */
+        public YGLayout.Buffer getComputedFlexBasisGeneration(int[] dst) { gather(YGLayout.COMPUTEDFLEXBASISGENERATION, dst); return this; }
+        /** Copies the {@code computedFlexBasisGeneration} field of the structs between the current position and limit to the specified buffer. */
+        public YGLayout.Buffer getComputedFlexBasisGeneration(IntBuffer dst) { gather(YGLayout.COMPUTEDFLEXBASISGENERATION, dst); return this; }
+        /** Copies the {@code generationCount} field of the structs between the current position and limit to the specified array. */
+        public YGLayout.Buffer getGenerationCount(int[] dst) { gather(YGLayout.GENERATIONCOUNT, dst); return this; }
+        /** Copies the {@code generationCount} field of the structs between the current position and limit to the specified buffer. */
+        public YGLayout.Buffer getGenerationCount(IntBuffer dst) { gather(YGLayout.GENERATIONCOUNT, dst); return this; }
+        /** Copies the {@code lastOwnerDirection} field of the structs between the current position and limit to the specified array. */
+        public YGLayout.Buffer getLastOwnerDirection(int[] dst) { gather(YGLayout.LASTOWNERDIRECTION, dst); return this; }
+        /** Copies the {@code lastOwnerDirection} field of the structs between the current position and limit to the specified buffer. */
+        public YGLayout.Buffer getLastOwnerDirection(IntBuffer dst) { gather(YGLayout.LASTOWNERDIRECTION, dst); return this; }
+        /** Copies the {@code nextCachedMeasurementsIndex} field of the structs between the current position and limit to the specified array. */
+        public YGLayout.Buffer getNextCachedMeasurementsIndex(int[] dst) { gather(YGLayout.NEXTCACHEDMEASUREMENTSINDEX, dst); return this; }
+        /** Copies the {@code nextCachedMeasurementsIndex} field of the structs between the current position and limit to the specified buffer. */
+        public YGLayout.Buffer getNextCachedMeasurementsIndex(IntBuffer dst) { gather(YGLayout.NEXTCACHEDMEASUREMENTSINDEX, dst); return this; }
+
     }
 
 }
\ No newline at end of file
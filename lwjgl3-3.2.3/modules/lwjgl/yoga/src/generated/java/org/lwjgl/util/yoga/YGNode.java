@@ -383,6 +383,24 @@ public class YGNode extends Struct implements NativeResource {
         return wrap(YGNode.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code YGNode} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static YGNode malloc(MemoryArena arena) {
+        return wrap(YGNode.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code YGNode} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static YGNode calloc(MemoryArena arena) {
+        return wrap(YGNode.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link YGNode.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -421,6 +439,26 @@ public class YGNode extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link YGNode.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static YGNode.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link YGNode.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static YGNode.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #context}. */
@@ -684,6 +722,16 @@ public class YGNode extends Struct implements NativeResource {
         /** Passes the element at {@code index} of the {@code resolvedDimensions} field to the specified {@link java.util.function.Consumer Consumer}. */
         public YGNode.Buffer resolvedDimensions(int index, java.util.function.Consumer<YGValue> consumer) { consumer.accept(resolvedDimensions(index)); return this; }
 
+        /** Copies the {@code lineIndex} field of the structs between the current position and limit to the specified array. */
+        public YGNode.Buffer getLineIndex(int[] dst) { gather(YGNode.LINEINDEX, dst); return this; }
+        /** Copies the {@code lineIndex} field of the structs between the current position and limit to the specified buffer. */
+        public YGNode.Buffer getLineIndex(IntBuffer dst) { gather(YGNode.LINEINDEX, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code lineIndex} field of the structs between the current position and limit. */
+        public YGNode.Buffer putLineIndex(int[] src) { scatter(YGNode.LINEINDEX, src); return this; }
+        /** Copies the values in the specified buffer to the {@code lineIndex} field of the structs between the current position and limit. */
+        public YGNode.Buffer putLineIndex(IntBuffer src) { scatter(YGNode.LINEINDEX, src); return this; }
+
     }
 
 }
\ No newline at end of file
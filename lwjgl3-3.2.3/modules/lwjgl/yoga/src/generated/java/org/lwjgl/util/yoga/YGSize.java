@@ -199,6 +199,24 @@ public class YGSize extends Struct implements NativeResource {
         return wrap(YGSize.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code YGSize} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static YGSize malloc(MemoryArena arena) {
+        return wrap(YGSize.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code YGSize} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static YGSize calloc(MemoryArena arena) {
+        return wrap(YGSize.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link YGSize.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -237,6 +255,26 @@ public class YGSize extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link YGSize.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static YGSize.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link YGSize.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static YGSize.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #width}. */
@@ -297,6 +335,24 @@ public class YGSize extends Struct implements NativeResource {
         /** Sets the specified value to the {@code height} field. */
         public YGSize.Buffer height(float value) { YGSize.nheight(address(), value); return this; }
 
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified array. */
+        public YGSize.Buffer getWidth(float[] dst) { gather(YGSize.WIDTH, dst); return this; }
+        /** Copies the {@code width} field of the structs between the current position and limit to the specified buffer. */
+        public YGSize.Buffer getWidth(FloatBuffer dst) { gather(YGSize.WIDTH, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified array. */
+        public YGSize.Buffer getHeight(float[] dst) { gather(YGSize.HEIGHT, dst); return this; }
+        /** Copies the {@code height} field of the structs between the current position and limit to the specified buffer. */
+        public YGSize.Buffer getHeight(FloatBuffer dst) { gather(YGSize.HEIGHT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code width} field of the structs between the current position and limit. */
+        public YGSize.Buffer putWidth(float[] src) { scatter(YGSize.WIDTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code width} field of the structs between the current position and limit. */
+        public YGSize.Buffer putWidth(FloatBuffer src) { scatter(YGSize.WIDTH, src); return this; }
+        /** Copies the values in the specified array to the {@code height} field of the structs between the current position and limit. */
+        public YGSize.Buffer putHeight(float[] src) { scatter(YGSize.HEIGHT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code height} field of the structs between the current position and limit. */
+        public YGSize.Buffer putHeight(FloatBuffer src) { scatter(YGSize.HEIGHT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -200,6 +200,24 @@ public class YGValue extends Struct implements NativeResource {
         return wrap(YGValue.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code YGValue} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static YGValue malloc(MemoryArena arena) {
+        return wrap(YGValue.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code YGValue} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static YGValue calloc(MemoryArena arena) {
+        return wrap(YGValue.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link YGValue.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -238,6 +256,26 @@ public class YGValue extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link YGValue.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static YGValue.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link YGValue.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static YGValue.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #value}. */
@@ -299,6 +337,24 @@ public class YGValue extends Struct implements NativeResource {
         /** Sets the specified value to the {@code unit} field. */
         public YGValue.Buffer unit(@NativeType("YGUnit") int value) { YGValue.nunit(address(), value); return this; }
 
+        /** Copies the {@code value} field of the structs between the current position and limit to the specified array. */
+        public YGValue.Buffer getValue(float[] dst) { gather(YGValue.VALUE, dst); return this; }
+        /** Copies the {@code value} field of the structs between the current position and limit to the specified buffer. */
+        public YGValue.Buffer getValue(FloatBuffer dst) { gather(YGValue.VALUE, dst); return this; }
+        /** Copies the {@code unit} field of the structs between the current position and limit to the specified array. */
+        public YGValue.Buffer getUnit(int[] dst) { gather(YGValue.UNIT, dst); return this; }
+        /** Copies the {@code unit} field of the structs between the current position and limit to the specified buffer. */
+        public YGValue.Buffer getUnit(IntBuffer dst) { gather(YGValue.UNIT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code value} field of the structs between the current position and limit. */
+        public YGValue.Buffer putValue(float[] src) { scatter(YGValue.VALUE, src); return this; }
+        /** Copies the values in the specified buffer to the {@code value} field of the structs between the current position and limit. */
+        public YGValue.Buffer putValue(FloatBuffer src) { scatter(YGValue.VALUE, src); return this; }
+        /** Copies the values in the specified array to the {@code unit} field of the structs between the current position and limit. */
+        public YGValue.Buffer putUnit(int[] src) { scatter(YGValue.UNIT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code unit} field of the structs between the current position and limit. */
+        public YGValue.Buffer putUnit(IntBuffer src) { scatter(YGValue.UNIT, src); return this; }
+
     }
 
 }
\ No newline at end of file
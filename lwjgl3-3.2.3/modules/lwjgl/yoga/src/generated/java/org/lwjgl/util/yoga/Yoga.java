@@ -323,6 +323,8 @@ public class Yoga {
         YGWrapWrap    = 1,
         YGWrapReverse = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Yoga.class, "YGNodeNewWithConfig,YGNodeClone,YGNodeFree,YGNodeFreeRecursiveWithCleanupFunc,YGNodeFreeRecursive,YGNodeReset,YGNodeInsertChild,YGNodeRemoveChild,YGNodeRemoveAllChildren,YGNodeGetChild,YGNodeGetOwner,YGNodeGetParent,YGNodeGetChildCount,YGNodeSetChildren,YGNodeSetIsReferenceBaseline,YGNodeIsReferenceBaseline,YGNodeCalculateLayout,YGNodeMarkDirty,YGNodeMarkDirtyAndPropogateToDescendants,YGNodeCanUseCachedMeasurement,YGNodeCopyStyle,YGNodeGetContext,YGNodeSetContext,YGConfigSetPrintTreeFlag,YGNodeHasMeasureFunc,YGNodeSetMeasureFunc,YGNodeHasBaselineFunc,YGNodeSetBaselineFunc,YGNodeGetDirtiedFunc,YGNodeSetDirtiedFunc,YGNodeSetPrintFunc,YGNodeGetHasNewLayout,YGNodeSetHasNewLayout,YGNodeGetNodeType,YGNodeSetNodeType,YGNodeIsDirty,YGNodeLayoutGetDidUseLegacyFlag,YGNodeStyleSetDirection,YGNodeStyleGetDirection,YGNodeStyleSetFlexDirection,YGNodeStyleGetFlexDirection,YGNodeStyleSetJustifyContent,YGNodeStyleGetJustifyContent,YGNodeStyleSetAlignContent,YGNodeStyleGetAlignContent,YGNodeStyleSetAlignItems,YGNodeStyleGetAlignItems,YGNodeStyleSetAlignSelf,YGNodeStyleGetAlignSelf,YGNodeStyleSetPositionType,YGNodeStyleGetPositionType,YGNodeStyleSetFlexWrap,YGNodeStyleGetFlexWrap,YGNodeStyleSetOverflow,YGNodeStyleGetOverflow,YGNodeStyleSetDisplay,YGNodeStyleGetDisplay,YGNodeStyleSetFlex,YGNodeStyleGetFlex,YGNodeStyleSetFlexGrow,YGNodeStyleGetFlexGrow,YGNodeStyleSetFlexShrink,YGNodeStyleGetFlexShrink,YGNodeStyleSetFlexBasis,YGNodeStyleSetFlexBasisPercent,YGNodeStyleSetFlexBasisAuto,YGNodeStyleGetFlexBasis,YGNodeStyleSetPosition,YGNodeStyleSetPositionPercent,YGNodeStyleGetPosition,YGNodeStyleSetMargin,YGNodeStyleSetMarginPercent,YGNodeStyleSetMarginAuto,YGNodeStyleGetMargin,YGNodeStyleSetPadding,YGNodeStyleSetPaddingPercent,YGNodeStyleGetPadding,YGNodeStyleSetBorder,YGNodeStyleGetBorder,YGNodeStyleSetWidth,YGNodeStyleSetWidthPercent,YGNodeStyleSetWidthAuto,YGNodeStyleGetWidth,YGNodeStyleSetHeight,YGNodeStyleSetHeightPercent,YGNodeStyleSetHeightAuto,YGNodeStyleGetHeight,YGNodeStyleSetMinWidth,YGNodeStyleSetMinWidthPercent,YGNodeStyleGetMinWidth,YGNodeStyleSetMinHeight,YGNodeStyleSetMinHeightPercent,YGNodeStyleGetMinHeight,YGNodeStyleSetMaxWidth,YGNodeStyleSetMaxWidthPercent,YGNodeStyleGetMaxWidth,YGNodeStyleSetMaxHeight,YGNodeStyleSetMaxHeightPercent,YGNodeStyleGetMaxHeight,YGNodeStyleSetAspectRatio,YGNodeStyleGetAspectRatio,YGNodeLayoutGetLeft,YGNodeLayoutGetTop,YGNodeLayoutGetRight,YGNodeLayoutGetBottom,YGNodeLayoutGetWidth,YGNodeLayoutGetHeight,YGNodeLayoutGetDirection,YGNodeLayoutGetHadOverflow,YGNodeLayoutGetDidLegacyStretchFlagAffectLayout,YGNodeLayoutGetMargin,YGNodeLayoutGetBorder,YGNodeLayoutGetPadding,YGConfigSetLogger,YGAssert,YGAssertWithNode,YGAssertWithConfig,YGConfigSetPointScaleFactor,YGConfigSetShouldDiffLayoutWithoutLegacyStretchBehaviour,YGConfigSetUseLegacyStretchBehaviour,YGConfigFree,YGConfigCopy,YGConfigSetExperimentalFeatureEnabled,YGConfigIsExperimentalFeatureEnabled,YGConfigSetUseWebDefaults,YGConfigGetUseWebDefaults,YGConfigSetCloneNodeFunc,YGConfigSetContext,YGConfigGetContext,YGAlignToString,YGDimensionToString,YGDirectionToString,YGDisplayToString,YGEdgeToString,YGExperimentalFeatureToString,YGFlexDirectionToString,YGJustifyToString,YGLogLevelToString,YGMeasureModeToString,YGNodeTypeToString,YGOverflowToString,YGPositionTypeToString,YGUnitToString,YGWrapToString,YGValueAuto,YGValueUndefined,YGValueZero");
+
     static { LibYoga.initialize(); }
 
     protected Yoga() {
@@ -343,7 +345,8 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
-        return nYGNodeNewWithConfig(config);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nYGNodeNewWithConfig(config));
     }
 
     // --- [ YGNodeClone ] ---
@@ -355,7 +358,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeClone(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nYGNodeClone(node));
     }
 
     // --- [ YGNodeFree ] ---
@@ -366,7 +370,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeFree(node);
+        FunctionProfiler.end(PROFILE_ID + 2, __start);
     }
 
     // --- [ YGNodeFreeRecursiveWithCleanupFunc ] ---
@@ -377,7 +383,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeFreeRecursiveWithCleanupFunc(node, cleanup.address());
+        FunctionProfiler.end(PROFILE_ID + 3, __start);
     }
 
     // --- [ YGNodeFreeRecursive ] ---
@@ -388,7 +396,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeFreeRecursive(node);
+        FunctionProfiler.end(PROFILE_ID + 4, __start);
     }
 
     // --- [ YGNodeReset ] ---
@@ -399,7 +409,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeReset(node);
+        FunctionProfiler.end(PROFILE_ID + 5, __start);
     }
 
     // --- [ YGNodeInsertChild ] ---
@@ -411,7 +423,9 @@ public class Yoga {
             check(node);
             check(child);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeInsertChild(node, child, index);
+        FunctionProfiler.end(PROFILE_ID + 6, __start);
     }
 
     // --- [ YGNodeRemoveChild ] ---
@@ -423,7 +437,9 @@ public class Yoga {
             check(node);
             check(child);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeRemoveChild(node, child);
+        FunctionProfiler.end(PROFILE_ID + 7, __start);
     }
 
     // --- [ YGNodeRemoveAllChildren ] ---
@@ -434,7 +450,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeRemoveAllChildren(node);
+        FunctionProfiler.end(PROFILE_ID + 8, __start);
     }
 
     // --- [ YGNodeGetChild ] ---
@@ -446,7 +464,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetChild(node, index);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nYGNodeGetChild(node, index));
     }
 
     // --- [ YGNodeGetOwner ] ---
@@ -458,7 +477,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetOwner(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nYGNodeGetOwner(node));
     }
 
     // --- [ YGNodeGetParent ] ---
@@ -470,7 +490,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetParent(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nYGNodeGetParent(node));
     }
 
     // --- [ YGNodeGetChildCount ] ---
@@ -482,7 +503,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetChildCount(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nYGNodeGetChildCount(node));
     }
 
     // --- [ YGNodeSetChildren ] ---
@@ -493,7 +515,9 @@ public class Yoga {
         if (CHECKS) {
             check(owner);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetChildren(owner, memAddress(children), children.remaining());
+        FunctionProfiler.end(PROFILE_ID + 13, __start);
     }
 
     // --- [ YGNodeSetIsReferenceBaseline ] ---
@@ -504,7 +528,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetIsReferenceBaseline(node, isReferenceBaseline);
+        FunctionProfiler.end(PROFILE_ID + 14, __start);
     }
 
     // --- [ YGNodeIsReferenceBaseline ] ---
@@ -516,7 +542,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeIsReferenceBaseline(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nYGNodeIsReferenceBaseline(node));
     }
 
     // --- [ YGNodeCalculateLayout ] ---
@@ -529,7 +556,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeCalculateLayout(node, availableWidth, availableHeight, ownerDirection);
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
     }
 
     // --- [ YGNodeMarkDirty ] ---
@@ -549,7 +578,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeMarkDirty(node);
+        FunctionProfiler.end(PROFILE_ID + 17, __start);
     }
 
     // --- [ YGNodeMarkDirtyAndPropogateToDescendants ] ---
@@ -567,7 +598,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeMarkDirtyAndPropogateToDescendants(node);
+        FunctionProfiler.end(PROFILE_ID + 18, __start);
     }
 
     // --- [ YGFloatIsUndefined ] ---
@@ -586,7 +619,8 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
-        return nYGNodeCanUseCachedMeasurement(widthMode, width, heightMode, height, lastWidthMode, lastWidth, lastHeightMode, lastHeight, lastComputedWidth, lastComputedHeight, marginRow, marginColumn, config);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nYGNodeCanUseCachedMeasurement(widthMode, width, heightMode, height, lastWidthMode, lastWidth, lastHeightMode, lastHeight, lastComputedWidth, lastComputedHeight, marginRow, marginColumn, config));
     }
 
     // --- [ YGNodeCopyStyle ] ---
@@ -598,7 +632,9 @@ public class Yoga {
             check(dstNode);
             check(srcNode);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeCopyStyle(dstNode, srcNode);
+        FunctionProfiler.end(PROFILE_ID + 20, __start);
     }
 
     // --- [ YGNodeGetContext ] ---
@@ -610,7 +646,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetContext(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nYGNodeGetContext(node));
     }
 
     // --- [ YGNodeSetContext ] ---
@@ -622,7 +659,9 @@ public class Yoga {
             check(node);
             check(context);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetContext(node, context);
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
     }
 
     // --- [ YGConfigSetPrintTreeFlag ] ---
@@ -633,7 +672,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetPrintTreeFlag(config, enabled);
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
     }
 
     // --- [ YGNodeHasMeasureFunc ] ---
@@ -645,7 +686,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeHasMeasureFunc(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nYGNodeHasMeasureFunc(node));
     }
 
     // --- [ YGNodeSetMeasureFunc ] ---
@@ -656,7 +698,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetMeasureFunc(node, memAddressSafe(measureFunc));
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
     }
 
     // --- [ YGNodeHasBaselineFunc ] ---
@@ -668,7 +712,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeHasBaselineFunc(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nYGNodeHasBaselineFunc(node));
     }
 
     // --- [ YGNodeSetBaselineFunc ] ---
@@ -679,7 +724,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetBaselineFunc(node, memAddressSafe(baselineFunc));
+        FunctionProfiler.end(PROFILE_ID + 27, __start);
     }
 
     // --- [ YGNodeGetDirtiedFunc ] ---
@@ -691,7 +738,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return YGDirtiedFunc.createSafe(nYGNodeGetDirtiedFunc(node));
+        long __start = FunctionProfiler.start();
+        return YGDirtiedFunc.createSafe(FunctionProfiler.end(PROFILE_ID + 28, __start, nYGNodeGetDirtiedFunc(node)));
     }
 
     // --- [ YGNodeSetDirtiedFunc ] ---
@@ -702,7 +750,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetDirtiedFunc(node, memAddressSafe(dirtiedFunc));
+        FunctionProfiler.end(PROFILE_ID + 29, __start);
     }
 
     // --- [ YGNodeSetPrintFunc ] ---
@@ -713,7 +763,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetPrintFunc(node, memAddressSafe(printFunc));
+        FunctionProfiler.end(PROFILE_ID + 30, __start);
     }
 
     // --- [ YGNodeGetHasNewLayout ] ---
@@ -725,7 +777,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetHasNewLayout(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, nYGNodeGetHasNewLayout(node));
     }
 
     // --- [ YGNodeSetHasNewLayout ] ---
@@ -736,7 +789,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetHasNewLayout(node, hasNewLayout);
+        FunctionProfiler.end(PROFILE_ID + 32, __start);
     }
 
     // --- [ YGNodeGetNodeType ] ---
@@ -748,7 +803,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeGetNodeType(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nYGNodeGetNodeType(node));
     }
 
     // --- [ YGNodeSetNodeType ] ---
@@ -759,7 +815,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeSetNodeType(node, nodeType);
+        FunctionProfiler.end(PROFILE_ID + 34, __start);
     }
 
     // --- [ YGNodeIsDirty ] ---
@@ -771,7 +829,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeIsDirty(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nYGNodeIsDirty(node));
     }
 
     // --- [ YGNodeLayoutGetDidUseLegacyFlag ] ---
@@ -783,7 +842,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetDidUseLegacyFlag(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nYGNodeLayoutGetDidUseLegacyFlag(node));
     }
 
     // --- [ YGNodeStyleSetDirection ] ---
@@ -796,7 +856,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetDirection(node, direction);
+        FunctionProfiler.end(PROFILE_ID + 37, __start);
     }
 
     // --- [ YGNodeStyleGetDirection ] ---
@@ -808,7 +870,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetDirection(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, nYGNodeStyleGetDirection(node));
     }
 
     // --- [ YGNodeStyleSetFlexDirection ] ---
@@ -821,7 +884,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexDirection(node, flexDirection);
+        FunctionProfiler.end(PROFILE_ID + 39, __start);
     }
 
     // --- [ YGNodeStyleGetFlexDirection ] ---
@@ -833,7 +898,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetFlexDirection(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, nYGNodeStyleGetFlexDirection(node));
     }
 
     // --- [ YGNodeStyleSetJustifyContent ] ---
@@ -846,7 +912,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetJustifyContent(node, justifyContent);
+        FunctionProfiler.end(PROFILE_ID + 41, __start);
     }
 
     // --- [ YGNodeStyleGetJustifyContent ] ---
@@ -858,7 +926,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetJustifyContent(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, nYGNodeStyleGetJustifyContent(node));
     }
 
     // --- [ YGNodeStyleSetAlignContent ] ---
@@ -871,7 +940,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetAlignContent(node, alignContent);
+        FunctionProfiler.end(PROFILE_ID + 43, __start);
     }
 
     // --- [ YGNodeStyleGetAlignContent ] ---
@@ -883,7 +954,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetAlignContent(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nYGNodeStyleGetAlignContent(node));
     }
 
     // --- [ YGNodeStyleSetAlignItems ] ---
@@ -896,7 +968,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetAlignItems(node, alignItems);
+        FunctionProfiler.end(PROFILE_ID + 45, __start);
     }
 
     // --- [ YGNodeStyleGetAlignItems ] ---
@@ -908,7 +982,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetAlignItems(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, nYGNodeStyleGetAlignItems(node));
     }
 
     // --- [ YGNodeStyleSetAlignSelf ] ---
@@ -921,7 +996,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetAlignSelf(node, alignSelf);
+        FunctionProfiler.end(PROFILE_ID + 47, __start);
     }
 
     // --- [ YGNodeStyleGetAlignSelf ] ---
@@ -933,7 +1010,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetAlignSelf(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 48, __start, nYGNodeStyleGetAlignSelf(node));
     }
 
     // --- [ YGNodeStyleSetPositionType ] ---
@@ -946,7 +1024,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetPositionType(node, positionType);
+        FunctionProfiler.end(PROFILE_ID + 49, __start);
     }
 
     // --- [ YGNodeStyleGetPositionType ] ---
@@ -958,7 +1038,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetPositionType(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, nYGNodeStyleGetPositionType(node));
     }
 
     // --- [ YGNodeStyleSetFlexWrap ] ---
@@ -971,7 +1052,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexWrap(node, flexWrap);
+        FunctionProfiler.end(PROFILE_ID + 51, __start);
     }
 
     // --- [ YGNodeStyleGetFlexWrap ] ---
@@ -983,7 +1066,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetFlexWrap(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, nYGNodeStyleGetFlexWrap(node));
     }
 
     // --- [ YGNodeStyleSetOverflow ] ---
@@ -996,7 +1080,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetOverflow(node, overflow);
+        FunctionProfiler.end(PROFILE_ID + 53, __start);
     }
 
     // --- [ YGNodeStyleGetOverflow ] ---
@@ -1008,7 +1094,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetOverflow(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, nYGNodeStyleGetOverflow(node));
     }
 
     // --- [ YGNodeStyleSetDisplay ] ---
@@ -1021,7 +1108,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetDisplay(node, display);
+        FunctionProfiler.end(PROFILE_ID + 55, __start);
     }
 
     // --- [ YGNodeStyleGetDisplay ] ---
@@ -1033,7 +1122,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetDisplay(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, nYGNodeStyleGetDisplay(node));
     }
 
     // --- [ YGNodeStyleSetFlex ] ---
@@ -1044,7 +1134,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlex(node, flex);
+        FunctionProfiler.end(PROFILE_ID + 57, __start);
     }
 
     // --- [ YGNodeStyleGetFlex ] ---
@@ -1055,7 +1147,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetFlex(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, nYGNodeStyleGetFlex(node));
     }
 
     // --- [ YGNodeStyleSetFlexGrow ] ---
@@ -1066,7 +1159,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexGrow(node, flexGrow);
+        FunctionProfiler.end(PROFILE_ID + 59, __start);
     }
 
     // --- [ YGNodeStyleGetFlexGrow ] ---
@@ -1077,7 +1172,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetFlexGrow(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, nYGNodeStyleGetFlexGrow(node));
     }
 
     // --- [ YGNodeStyleSetFlexShrink ] ---
@@ -1088,7 +1184,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexShrink(node, flexShrink);
+        FunctionProfiler.end(PROFILE_ID + 61, __start);
     }
 
     // --- [ YGNodeStyleGetFlexShrink ] ---
@@ -1099,7 +1197,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetFlexShrink(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, nYGNodeStyleGetFlexShrink(node));
     }
 
     // --- [ YGNodeStyleSetFlexBasis ] ---
@@ -1110,7 +1209,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexBasis(node, flexBasis);
+        FunctionProfiler.end(PROFILE_ID + 63, __start);
     }
 
     // --- [ YGNodeStyleSetFlexBasisPercent ] ---
@@ -1121,7 +1222,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexBasisPercent(node, flexBasis);
+        FunctionProfiler.end(PROFILE_ID + 64, __start);
     }
 
     // --- [ YGNodeStyleSetFlexBasisAuto ] ---
@@ -1132,7 +1235,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetFlexBasisAuto(node);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ YGNodeStyleGetFlexBasis ] ---
@@ -1143,7 +1248,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetFlexBasis(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 66, __start);
         return __result;
     }
 
@@ -1157,7 +1264,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetPosition(node, edge, position);
+        FunctionProfiler.end(PROFILE_ID + 67, __start);
     }
 
     // --- [ YGNodeStyleSetPositionPercent ] ---
@@ -1170,7 +1279,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetPositionPercent(node, edge, position);
+        FunctionProfiler.end(PROFILE_ID + 68, __start);
     }
 
     // --- [ YGNodeStyleGetPosition ] ---
@@ -1183,7 +1294,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetPosition(node, edge, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 69, __start);
         return __result;
     }
 
@@ -1197,7 +1310,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMargin(node, edge, margin);
+        FunctionProfiler.end(PROFILE_ID + 70, __start);
     }
 
     // --- [ YGNodeStyleSetMarginPercent ] ---
@@ -1210,7 +1325,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMarginPercent(node, edge, margin);
+        FunctionProfiler.end(PROFILE_ID + 71, __start);
     }
 
     // --- [ YGNodeStyleSetMarginAuto ] ---
@@ -1223,7 +1340,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMarginAuto(node, edge);
+        FunctionProfiler.end(PROFILE_ID + 72, __start);
     }
 
     // --- [ YGNodeStyleGetMargin ] ---
@@ -1236,7 +1355,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetMargin(node, edge, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 73, __start);
         return __result;
     }
 
@@ -1250,7 +1371,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetPadding(node, edge, padding);
+        FunctionProfiler.end(PROFILE_ID + 74, __start);
     }
 
     // --- [ YGNodeStyleSetPaddingPercent ] ---
@@ -1263,7 +1386,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetPaddingPercent(node, edge, padding);
+        FunctionProfiler.end(PROFILE_ID + 75, __start);
     }
 
     // --- [ YGNodeStyleGetPadding ] ---
@@ -1276,7 +1401,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetPadding(node, edge, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 76, __start);
         return __result;
     }
 
@@ -1290,7 +1417,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetBorder(node, edge, border);
+        FunctionProfiler.end(PROFILE_ID + 77, __start);
     }
 
     // --- [ YGNodeStyleGetBorder ] ---
@@ -1303,7 +1432,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetBorder(node, edge);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 78, __start, nYGNodeStyleGetBorder(node, edge));
     }
 
     // --- [ YGNodeStyleSetWidth ] ---
@@ -1314,7 +1444,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetWidth(node, width);
+        FunctionProfiler.end(PROFILE_ID + 79, __start);
     }
 
     // --- [ YGNodeStyleSetWidthPercent ] ---
@@ -1325,7 +1457,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetWidthPercent(node, width);
+        FunctionProfiler.end(PROFILE_ID + 80, __start);
     }
 
     // --- [ YGNodeStyleSetWidthAuto ] ---
@@ -1336,7 +1470,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetWidthAuto(node);
+        FunctionProfiler.end(PROFILE_ID + 81, __start);
     }
 
     // --- [ YGNodeStyleGetWidth ] ---
@@ -1347,7 +1483,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetWidth(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 82, __start);
         return __result;
     }
 
@@ -1359,7 +1497,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetHeight(node, height);
+        FunctionProfiler.end(PROFILE_ID + 83, __start);
     }
 
     // --- [ YGNodeStyleSetHeightPercent ] ---
@@ -1370,7 +1510,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetHeightPercent(node, height);
+        FunctionProfiler.end(PROFILE_ID + 84, __start);
     }
 
     // --- [ YGNodeStyleSetHeightAuto ] ---
@@ -1381,7 +1523,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetHeightAuto(node);
+        FunctionProfiler.end(PROFILE_ID + 85, __start);
     }
 
     // --- [ YGNodeStyleGetHeight ] ---
@@ -1392,7 +1536,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetHeight(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 86, __start);
         return __result;
     }
 
@@ -1404,7 +1550,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMinWidth(node, minWidth);
+        FunctionProfiler.end(PROFILE_ID + 87, __start);
     }
 
     // --- [ YGNodeStyleSetMinWidthPercent ] ---
@@ -1415,7 +1563,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMinWidthPercent(node, minWidth);
+        FunctionProfiler.end(PROFILE_ID + 88, __start);
     }
 
     // --- [ YGNodeStyleGetMinWidth ] ---
@@ -1426,7 +1576,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetMinWidth(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 89, __start);
         return __result;
     }
 
@@ -1438,7 +1590,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMinHeight(node, minHeight);
+        FunctionProfiler.end(PROFILE_ID + 90, __start);
     }
 
     // --- [ YGNodeStyleSetMinHeightPercent ] ---
@@ -1449,7 +1603,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMinHeightPercent(node, minHeight);
+        FunctionProfiler.end(PROFILE_ID + 91, __start);
     }
 
     // --- [ YGNodeStyleGetMinHeight ] ---
@@ -1460,7 +1616,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetMinHeight(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 92, __start);
         return __result;
     }
 
@@ -1472,7 +1630,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMaxWidth(node, maxWidth);
+        FunctionProfiler.end(PROFILE_ID + 93, __start);
     }
 
     // --- [ YGNodeStyleSetMaxWidthPercent ] ---
@@ -1483,7 +1643,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMaxWidthPercent(node, maxWidth);
+        FunctionProfiler.end(PROFILE_ID + 94, __start);
     }
 
     // --- [ YGNodeStyleGetMaxWidth ] ---
@@ -1494,7 +1656,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetMaxWidth(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 95, __start);
         return __result;
     }
 
@@ -1506,7 +1670,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMaxHeight(node, maxHeight);
+        FunctionProfiler.end(PROFILE_ID + 96, __start);
     }
 
     // --- [ YGNodeStyleSetMaxHeightPercent ] ---
@@ -1517,7 +1683,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetMaxHeightPercent(node, maxHeight);
+        FunctionProfiler.end(PROFILE_ID + 97, __start);
     }
 
     // --- [ YGNodeStyleGetMaxHeight ] ---
@@ -1528,7 +1696,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleGetMaxHeight(node, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 98, __start);
         return __result;
     }
 
@@ -1555,7 +1725,9 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
+        long __start = FunctionProfiler.start();
         nYGNodeStyleSetAspectRatio(node, aspectRatio);
+        FunctionProfiler.end(PROFILE_ID + 99, __start);
     }
 
     // --- [ YGNodeStyleGetAspectRatio ] ---
@@ -1566,7 +1738,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeStyleGetAspectRatio(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 100, __start, nYGNodeStyleGetAspectRatio(node));
     }
 
     // --- [ YGNodeLayoutGetLeft ] ---
@@ -1577,7 +1750,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetLeft(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 101, __start, nYGNodeLayoutGetLeft(node));
     }
 
     // --- [ YGNodeLayoutGetTop ] ---
@@ -1588,7 +1762,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetTop(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 102, __start, nYGNodeLayoutGetTop(node));
     }
 
     // --- [ YGNodeLayoutGetRight ] ---
@@ -1599,7 +1774,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetRight(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 103, __start, nYGNodeLayoutGetRight(node));
     }
 
     // --- [ YGNodeLayoutGetBottom ] ---
@@ -1610,7 +1786,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetBottom(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 104, __start, nYGNodeLayoutGetBottom(node));
     }
 
     // --- [ YGNodeLayoutGetWidth ] ---
@@ -1621,7 +1798,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetWidth(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 105, __start, nYGNodeLayoutGetWidth(node));
     }
 
     // --- [ YGNodeLayoutGetHeight ] ---
@@ -1632,7 +1810,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetHeight(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 106, __start, nYGNodeLayoutGetHeight(node));
     }
 
     // --- [ YGNodeLayoutGetDirection ] ---
@@ -1644,7 +1823,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetDirection(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 107, __start, nYGNodeLayoutGetDirection(node));
     }
 
     // --- [ YGNodeLayoutGetHadOverflow ] ---
@@ -1656,7 +1836,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetHadOverflow(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 108, __start, nYGNodeLayoutGetHadOverflow(node));
     }
 
     // --- [ YGNodeLayoutGetDidLegacyStretchFlagAffectLayout ] ---
@@ -1668,7 +1849,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetDidLegacyStretchFlagAffectLayout(node);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 109, __start, nYGNodeLayoutGetDidLegacyStretchFlagAffectLayout(node));
     }
 
     // --- [ YGNodeLayoutGetMargin ] ---
@@ -1686,7 +1868,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetMargin(node, edge);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 110, __start, nYGNodeLayoutGetMargin(node, edge));
     }
 
     // --- [ YGNodeLayoutGetBorder ] ---
@@ -1704,7 +1887,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetBorder(node, edge);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 111, __start, nYGNodeLayoutGetBorder(node, edge));
     }
 
     // --- [ YGNodeLayoutGetPadding ] ---
@@ -1722,7 +1906,8 @@ public class Yoga {
         if (CHECKS) {
             check(node);
         }
-        return nYGNodeLayoutGetPadding(node, edge);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 112, __start, nYGNodeLayoutGetPadding(node, edge));
     }
 
     // --- [ YGConfigSetLogger ] ---
@@ -1733,7 +1918,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetLogger(config, memAddressSafe(logger));
+        FunctionProfiler.end(PROFILE_ID + 113, __start);
     }
 
     // --- [ YGAssert ] ---
@@ -1744,7 +1931,9 @@ public class Yoga {
         if (CHECKS) {
             checkNT1(message);
         }
+        long __start = FunctionProfiler.start();
         nYGAssert(condition, memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 114, __start);
     }
 
     public static void YGAssert(@NativeType("bool") boolean condition, @NativeType("char const *") CharSequence message) {
@@ -1752,7 +1941,9 @@ public class Yoga {
         try {
             stack.nUTF8(message, true);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nYGAssert(condition, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 114, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1767,7 +1958,9 @@ public class Yoga {
             check(node);
             checkNT1(message);
         }
+        long __start = FunctionProfiler.start();
         nYGAssertWithNode(node, condition, memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 115, __start);
     }
 
     public static void YGAssertWithNode(@NativeType("YGNodeRef") long node, @NativeType("bool") boolean condition, @NativeType("char const *") CharSequence message) {
@@ -1778,7 +1971,9 @@ public class Yoga {
         try {
             stack.nUTF8(message, true);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nYGAssertWithNode(node, condition, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 115, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1793,7 +1988,9 @@ public class Yoga {
             check(config);
             checkNT1(message);
         }
+        long __start = FunctionProfiler.start();
         nYGAssertWithConfig(config, condition, memAddress(message));
+        FunctionProfiler.end(PROFILE_ID + 116, __start);
     }
 
     public static void YGAssertWithConfig(@NativeType("YGConfigRef") long config, @NativeType("bool") boolean condition, @NativeType("char const *") CharSequence message) {
@@ -1804,7 +2001,9 @@ public class Yoga {
         try {
             stack.nUTF8(message, true);
             long messageEncoded = stack.getPointerAddress();
+            long __start = FunctionProfiler.start();
             nYGAssertWithConfig(config, condition, messageEncoded);
+            FunctionProfiler.end(PROFILE_ID + 116, __start);
         } finally {
             stack.setPointer(stackPointer);
         }
@@ -1820,7 +2019,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetPointScaleFactor(config, pixelsInPoint);
+        FunctionProfiler.end(PROFILE_ID + 117, __start);
     }
 
     // --- [ YGConfigSetShouldDiffLayoutWithoutLegacyStretchBehaviour ] ---
@@ -1831,7 +2032,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetShouldDiffLayoutWithoutLegacyStretchBehaviour(config, shouldDiffLayout);
+        FunctionProfiler.end(PROFILE_ID + 118, __start);
     }
 
     // --- [ YGConfigSetUseLegacyStretchBehaviour ] ---
@@ -1848,7 +2051,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetUseLegacyStretchBehaviour(config, useLegacyStretchBehaviour);
+        FunctionProfiler.end(PROFILE_ID + 119, __start);
     }
 
     // --- [ YGConfigNew ] ---
@@ -1864,7 +2069,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigFree(config);
+        FunctionProfiler.end(PROFILE_ID + 120, __start);
     }
 
     // --- [ YGConfigCopy ] ---
@@ -1876,7 +2083,9 @@ public class Yoga {
             check(dest);
             check(src);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigCopy(dest, src);
+        FunctionProfiler.end(PROFILE_ID + 121, __start);
     }
 
     // --- [ YGConfigGetInstanceCount ] ---
@@ -1894,7 +2103,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetExperimentalFeatureEnabled(config, feature, enabled);
+        FunctionProfiler.end(PROFILE_ID + 122, __start);
     }
 
     // --- [ YGConfigIsExperimentalFeatureEnabled ] ---
@@ -1908,7 +2119,8 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
-        return nYGConfigIsExperimentalFeatureEnabled(config, feature);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 123, __start, nYGConfigIsExperimentalFeatureEnabled(config, feature));
     }
 
     // --- [ YGConfigSetUseWebDefaults ] ---
@@ -1921,7 +2133,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetUseWebDefaults(config, enabled);
+        FunctionProfiler.end(PROFILE_ID + 124, __start);
     }
 
     // --- [ YGConfigGetUseWebDefaults ] ---
@@ -1933,7 +2147,8 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
-        return nYGConfigGetUseWebDefaults(config);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 125, __start, nYGConfigGetUseWebDefaults(config));
     }
 
     // --- [ YGConfigSetCloneNodeFunc ] ---
@@ -1944,7 +2159,9 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetCloneNodeFunc(config, memAddressSafe(callback));
+        FunctionProfiler.end(PROFILE_ID + 126, __start);
     }
 
     // --- [ YGConfigGetDefault ] ---
@@ -1961,7 +2178,9 @@ public class Yoga {
             check(config);
             check(context);
         }
+        long __start = FunctionProfiler.start();
         nYGConfigSetContext(config, context);
+        FunctionProfiler.end(PROFILE_ID + 127, __start);
     }
 
     // --- [ YGConfigGetContext ] ---
@@ -1973,7 +2192,8 @@ public class Yoga {
         if (CHECKS) {
             check(config);
         }
-        return nYGConfigGetContext(config);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 128, __start, nYGConfigGetContext(config));
     }
 
     // --- [ YGRoundValueToPixelGrid ] ---
@@ -1988,7 +2208,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGAlignAuto AlignAuto}</td><td>{@link #YGAlignFlexStart AlignFlexStart}</td><td>{@link #YGAlignCenter AlignCenter}</td><td>{@link #YGAlignFlexEnd AlignFlexEnd}</td><td>{@link #YGAlignStretch AlignStretch}</td><td>{@link #YGAlignBaseline AlignBaseline}</td></tr><tr><td>{@link #YGAlignSpaceBetween AlignSpaceBetween}</td><td>{@link #YGAlignSpaceAround AlignSpaceAround}</td></tr></table> */
     @NativeType("char const *")
     public static String YGAlignToString(@NativeType("YGAlign") int value) {
-        long __result = nYGAlignToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 129, __start, nYGAlignToString(value));
         return memASCII(__result);
     }
 
@@ -2000,7 +2221,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGDimensionWidth DimensionWidth}</td><td>{@link #YGDimensionHeight DimensionHeight}</td></tr></table> */
     @NativeType("char const *")
     public static String YGDimensionToString(@NativeType("YGDimension") int value) {
-        long __result = nYGDimensionToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 130, __start, nYGDimensionToString(value));
         return memASCII(__result);
     }
 
@@ -2012,7 +2234,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGDirectionInherit DirectionInherit}</td><td>{@link #YGDirectionLTR DirectionLTR}</td><td>{@link #YGDirectionRTL DirectionRTL}</td></tr></table> */
     @NativeType("char const *")
     public static String YGDirectionToString(@NativeType("YGDirection") int value) {
-        long __result = nYGDirectionToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 131, __start, nYGDirectionToString(value));
         return memASCII(__result);
     }
 
@@ -2024,7 +2247,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGDisplayFlex DisplayFlex}</td><td>{@link #YGDisplayNone DisplayNone}</td></tr></table> */
     @NativeType("char const *")
     public static String YGDisplayToString(@NativeType("YGDisplay") int value) {
-        long __result = nYGDisplayToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 132, __start, nYGDisplayToString(value));
         return memASCII(__result);
     }
 
@@ -2036,7 +2260,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGEdgeLeft EdgeLeft}</td><td>{@link #YGEdgeTop EdgeTop}</td><td>{@link #YGEdgeRight EdgeRight}</td><td>{@link #YGEdgeBottom EdgeBottom}</td><td>{@link #YGEdgeStart EdgeStart}</td><td>{@link #YGEdgeEnd EdgeEnd}</td><td>{@link #YGEdgeHorizontal EdgeHorizontal}</td><td>{@link #YGEdgeVertical EdgeVertical}</td></tr><tr><td>{@link #YGEdgeAll EdgeAll}</td></tr></table> */
     @NativeType("char const *")
     public static String YGEdgeToString(@NativeType("YGEdge") int value) {
-        long __result = nYGEdgeToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 133, __start, nYGEdgeToString(value));
         return memASCII(__result);
     }
 
@@ -2048,7 +2273,8 @@ public class Yoga {
     /** @param value must be:<br><table><tr><td>{@link #YGExperimentalFeatureWebFlexBasis ExperimentalFeatureWebFlexBasis}</td></tr></table> */
     @NativeType("char const *")
     public static String YGExperimentalFeatureToString(@NativeType("YGExperimentalFeature") int value) {
-        long __result = nYGExperimentalFeatureToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 134, __start, nYGExperimentalFeatureToString(value));
         return memASCII(__result);
     }
 
@@ -2060,7 +2286,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGFlexDirectionColumn FlexDirectionColumn}</td><td>{@link #YGFlexDirectionColumnReverse FlexDirectionColumnReverse}</td><td>{@link #YGFlexDirectionRow FlexDirectionRow}</td></tr><tr><td>{@link #YGFlexDirectionRowReverse FlexDirectionRowReverse}</td></tr></table> */
     @NativeType("char const *")
     public static String YGFlexDirectionToString(@NativeType("YGFlexDirection") int value) {
-        long __result = nYGFlexDirectionToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 135, __start, nYGFlexDirectionToString(value));
         return memASCII(__result);
     }
 
@@ -2072,7 +2299,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGJustifyFlexStart JustifyFlexStart}</td><td>{@link #YGJustifyCenter JustifyCenter}</td><td>{@link #YGJustifyFlexEnd JustifyFlexEnd}</td><td>{@link #YGJustifySpaceBetween JustifySpaceBetween}</td><td>{@link #YGJustifySpaceAround JustifySpaceAround}</td></tr><tr><td>{@link #YGJustifySpaceEvenly JustifySpaceEvenly}</td></tr></table> */
     @NativeType("char const *")
     public static String YGJustifyToString(@NativeType("YGJustify") int value) {
-        long __result = nYGJustifyToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 136, __start, nYGJustifyToString(value));
         return memASCII(__result);
     }
 
@@ -2084,7 +2312,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGLogLevelError LogLevelError}</td><td>{@link #YGLogLevelWarn LogLevelWarn}</td><td>{@link #YGLogLevelInfo LogLevelInfo}</td><td>{@link #YGLogLevelDebug LogLevelDebug}</td><td>{@link #YGLogLevelVerbose LogLevelVerbose}</td><td>{@link #YGLogLevelFatal LogLevelFatal}</td></tr></table> */
     @NativeType("char const *")
     public static String YGLogLevelToString(@NativeType("YGLogLevel") int value) {
-        long __result = nYGLogLevelToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 137, __start, nYGLogLevelToString(value));
         return memASCII(__result);
     }
 
@@ -2096,7 +2325,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGMeasureModeUndefined MeasureModeUndefined}</td><td>{@link #YGMeasureModeExactly MeasureModeExactly}</td><td>{@link #YGMeasureModeAtMost MeasureModeAtMost}</td></tr></table> */
     @NativeType("char const *")
     public static String YGMeasureModeToString(@NativeType("YGMeasureMode") int value) {
-        long __result = nYGMeasureModeToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 138, __start, nYGMeasureModeToString(value));
         return memASCII(__result);
     }
 
@@ -2108,7 +2338,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGNodeTypeDefault NodeTypeDefault}</td><td>{@link #YGNodeTypeText NodeTypeText}</td></tr></table> */
     @NativeType("char const *")
     public static String YGNodeTypeToString(@NativeType("YGNodeType") int value) {
-        long __result = nYGNodeTypeToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 139, __start, nYGNodeTypeToString(value));
         return memASCII(__result);
     }
 
@@ -2120,7 +2351,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGOverflowVisible OverflowVisible}</td><td>{@link #YGOverflowHidden OverflowHidden}</td><td>{@link #YGOverflowScroll OverflowScroll}</td></tr></table> */
     @NativeType("char const *")
     public static String YGOverflowToString(@NativeType("YGOverflow") int value) {
-        long __result = nYGOverflowToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 140, __start, nYGOverflowToString(value));
         return memASCII(__result);
     }
 
@@ -2132,7 +2364,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGPositionTypeRelative PositionTypeRelative}</td><td>{@link #YGPositionTypeAbsolute PositionTypeAbsolute}</td></tr></table> */
     @NativeType("char const *")
     public static String YGPositionTypeToString(@NativeType("YGPositionType") int value) {
-        long __result = nYGPositionTypeToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 141, __start, nYGPositionTypeToString(value));
         return memASCII(__result);
     }
 
@@ -2144,7 +2377,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGUnitUndefined UnitUndefined}</td><td>{@link #YGUnitPoint UnitPoint}</td><td>{@link #YGUnitPercent UnitPercent}</td><td>{@link #YGUnitAuto UnitAuto}</td></tr></table> */
     @NativeType("char const *")
     public static String YGUnitToString(@NativeType("YGUnit") int value) {
-        long __result = nYGUnitToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 142, __start, nYGUnitToString(value));
         return memASCII(__result);
     }
 
@@ -2156,7 +2390,8 @@ public class Yoga {
     /** @param value one of:<br><table><tr><td>{@link #YGWrapNoWrap WrapNoWrap}</td><td>{@link #YGWrapWrap WrapWrap}</td><td>{@link #YGWrapReverse WrapReverse}</td></tr></table> */
     @NativeType("char const *")
     public static String YGWrapToString(@NativeType("YGWrap") int value) {
-        long __result = nYGWrapToString(value);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 143, __start, nYGWrapToString(value));
         return memASCII(__result);
     }
 
@@ -2165,7 +2400,9 @@ public class Yoga {
     private static native void nYGValueAuto(long __result);
 
     private static YGValue YGValueAuto(YGValue __result) {
+        long __start = FunctionProfiler.start();
         nYGValueAuto(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 144, __start);
         return __result;
     }
 
@@ -2176,7 +2413,9 @@ public class Yoga {
     private static native void nYGValueUndefined(long __result);
 
     private static YGValue YGValueUndefined(YGValue __result) {
+        long __start = FunctionProfiler.start();
         nYGValueUndefined(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 145, __start);
         return __result;
     }
 
@@ -2187,7 +2426,9 @@ public class Yoga {
     private static native void nYGValueZero(long __result);
 
     private static YGValue YGValueZero(YGValue __result) {
+        long __start = FunctionProfiler.start();
         nYGValueZero(__result.address());
+        FunctionProfiler.end(PROFILE_ID + 146, __start);
         return __result;
     }
 
@@ -264,6 +264,24 @@ public class ZDICTCoverParams extends Struct implements NativeResource {
         return wrap(ZDICTCoverParams.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZDICTCoverParams} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZDICTCoverParams malloc(MemoryArena arena) {
+        return wrap(ZDICTCoverParams.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZDICTCoverParams} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZDICTCoverParams calloc(MemoryArena arena) {
+        return wrap(ZDICTCoverParams.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZDICTCoverParams.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -302,6 +320,26 @@ public class ZDICTCoverParams extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZDICTCoverParams.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZDICTCoverParams.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZDICTCoverParams.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZDICTCoverParams.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #k}. */
@@ -401,6 +439,48 @@ public class ZDICTCoverParams extends Struct implements NativeResource {
         /** Passes the {@code zParams} field to the specified {@link java.util.function.Consumer Consumer}. */
         public ZDICTCoverParams.Buffer zParams(java.util.function.Consumer<ZDICTParams> consumer) { consumer.accept(zParams()); return this; }
 
+        /** Copies the {@code k} field of the structs between the current position and limit to the specified array. */
+        public ZDICTCoverParams.Buffer getK(int[] dst) { gather(ZDICTCoverParams.K, dst); return this; }
+        /** Copies the {@code k} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTCoverParams.Buffer getK(IntBuffer dst) { gather(ZDICTCoverParams.K, dst); return this; }
+        /** Copies the {@code d} field of the structs between the current position and limit to the specified array. */
+        public ZDICTCoverParams.Buffer getD(int[] dst) { gather(ZDICTCoverParams.D, dst); return this; }
+        /** Copies the {@code d} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTCoverParams.Buffer getD(IntBuffer dst) { gather(ZDICTCoverParams.D, dst); return this; }
+        /** Copies the {@code steps} field of the structs between the current position and limit to the specified array. */
+        public ZDICTCoverParams.Buffer getSteps(int[] dst) { gather(ZDICTCoverParams.STEPS, dst); return this; }
+        /** Copies the {@code steps} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTCoverParams.Buffer getSteps(IntBuffer dst) { gather(ZDICTCoverParams.STEPS, dst); return this; }
+        /** Copies the {@code nbThreads} field of the structs between the current position and limit to the specified array. */
+        public ZDICTCoverParams.Buffer getNbThreads(int[] dst) { gather(ZDICTCoverParams.NBTHREADS, dst); return this; }
+        /** Copies the {@code nbThreads} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTCoverParams.Buffer getNbThreads(IntBuffer dst) { gather(ZDICTCoverParams.NBTHREADS, dst); return this; }
+        /** Copies the {@code splitPoint} field of the structs between the current position and limit to the specified array. */
+        public ZDICTCoverParams.Buffer getSplitPoint(double[] dst) { gather(ZDICTCoverParams.SPLITPOINT, dst); return this; }
+        /** Copies the {@code splitPoint} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTCoverParams.Buffer getSplitPoint(DoubleBuffer dst) { gather(ZDICTCoverParams.SPLITPOINT, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code k} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putK(int[] src) { scatter(ZDICTCoverParams.K, src); return this; }
+        /** Copies the values in the specified buffer to the {@code k} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putK(IntBuffer src) { scatter(ZDICTCoverParams.K, src); return this; }
+        /** Copies the values in the specified array to the {@code d} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putD(int[] src) { scatter(ZDICTCoverParams.D, src); return this; }
+        /** Copies the values in the specified buffer to the {@code d} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putD(IntBuffer src) { scatter(ZDICTCoverParams.D, src); return this; }
+        /** Copies the values in the specified array to the {@code steps} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putSteps(int[] src) { scatter(ZDICTCoverParams.STEPS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code steps} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putSteps(IntBuffer src) { scatter(ZDICTCoverParams.STEPS, src); return this; }
+        /** Copies the values in the specified array to the {@code nbThreads} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putNbThreads(int[] src) { scatter(ZDICTCoverParams.NBTHREADS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nbThreads} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putNbThreads(IntBuffer src) { scatter(ZDICTCoverParams.NBTHREADS, src); return this; }
+        /** Copies the values in the specified array to the {@code splitPoint} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putSplitPoint(double[] src) { scatter(ZDICTCoverParams.SPLITPOINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code splitPoint} field of the structs between the current position and limit. */
+        public ZDICTCoverParams.Buffer putSplitPoint(DoubleBuffer src) { scatter(ZDICTCoverParams.SPLITPOINT, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -288,6 +288,24 @@ public class ZDICTFastCoverParams extends Struct implements NativeResource {
         return wrap(ZDICTFastCoverParams.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZDICTFastCoverParams} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZDICTFastCoverParams malloc(MemoryArena arena) {
+        return wrap(ZDICTFastCoverParams.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZDICTFastCoverParams} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZDICTFastCoverParams calloc(MemoryArena arena) {
+        return wrap(ZDICTFastCoverParams.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZDICTFastCoverParams.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -326,6 +344,26 @@ public class ZDICTFastCoverParams extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZDICTFastCoverParams.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZDICTFastCoverParams.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZDICTFastCoverParams.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZDICTFastCoverParams.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #k}. */
@@ -443,6 +481,64 @@ public class ZDICTFastCoverParams extends Struct implements NativeResource {
         /** Passes the {@code zParams} field to the specified {@link java.util.function.Consumer Consumer}. */
         public ZDICTFastCoverParams.Buffer zParams(java.util.function.Consumer<ZDICTParams> consumer) { consumer.accept(zParams()); return this; }
 
+        /** Copies the {@code k} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getK(int[] dst) { gather(ZDICTFastCoverParams.K, dst); return this; }
+        /** Copies the {@code k} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getK(IntBuffer dst) { gather(ZDICTFastCoverParams.K, dst); return this; }
+        /** Copies the {@code d} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getD(int[] dst) { gather(ZDICTFastCoverParams.D, dst); return this; }
+        /** Copies the {@code d} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getD(IntBuffer dst) { gather(ZDICTFastCoverParams.D, dst); return this; }
+        /** Copies the {@code f} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getF(int[] dst) { gather(ZDICTFastCoverParams.F, dst); return this; }
+        /** Copies the {@code f} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getF(IntBuffer dst) { gather(ZDICTFastCoverParams.F, dst); return this; }
+        /** Copies the {@code steps} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getSteps(int[] dst) { gather(ZDICTFastCoverParams.STEPS, dst); return this; }
+        /** Copies the {@code steps} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getSteps(IntBuffer dst) { gather(ZDICTFastCoverParams.STEPS, dst); return this; }
+        /** Copies the {@code nbThreads} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getNbThreads(int[] dst) { gather(ZDICTFastCoverParams.NBTHREADS, dst); return this; }
+        /** Copies the {@code nbThreads} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getNbThreads(IntBuffer dst) { gather(ZDICTFastCoverParams.NBTHREADS, dst); return this; }
+        /** Copies the {@code splitPoint} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getSplitPoint(double[] dst) { gather(ZDICTFastCoverParams.SPLITPOINT, dst); return this; }
+        /** Copies the {@code splitPoint} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getSplitPoint(DoubleBuffer dst) { gather(ZDICTFastCoverParams.SPLITPOINT, dst); return this; }
+        /** Copies the {@code accel} field of the structs between the current position and limit to the specified array. */
+        public ZDICTFastCoverParams.Buffer getAccel(int[] dst) { gather(ZDICTFastCoverParams.ACCEL, dst); return this; }
+        /** Copies the {@code accel} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTFastCoverParams.Buffer getAccel(IntBuffer dst) { gather(ZDICTFastCoverParams.ACCEL, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code k} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putK(int[] src) { scatter(ZDICTFastCoverParams.K, src); return this; }
+        /** Copies the values in the specified buffer to the {@code k} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putK(IntBuffer src) { scatter(ZDICTFastCoverParams.K, src); return this; }
+        /** Copies the values in the specified array to the {@code d} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putD(int[] src) { scatter(ZDICTFastCoverParams.D, src); return this; }
+        /** Copies the values in the specified buffer to the {@code d} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putD(IntBuffer src) { scatter(ZDICTFastCoverParams.D, src); return this; }
+        /** Copies the values in the specified array to the {@code f} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putF(int[] src) { scatter(ZDICTFastCoverParams.F, src); return this; }
+        /** Copies the values in the specified buffer to the {@code f} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putF(IntBuffer src) { scatter(ZDICTFastCoverParams.F, src); return this; }
+        /** Copies the values in the specified array to the {@code steps} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putSteps(int[] src) { scatter(ZDICTFastCoverParams.STEPS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code steps} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putSteps(IntBuffer src) { scatter(ZDICTFastCoverParams.STEPS, src); return this; }
+        /** Copies the values in the specified array to the {@code nbThreads} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putNbThreads(int[] src) { scatter(ZDICTFastCoverParams.NBTHREADS, src); return this; }
+        /** Copies the values in the specified buffer to the {@code nbThreads} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putNbThreads(IntBuffer src) { scatter(ZDICTFastCoverParams.NBTHREADS, src); return this; }
+        /** Copies the values in the specified array to the {@code splitPoint} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putSplitPoint(double[] src) { scatter(ZDICTFastCoverParams.SPLITPOINT, src); return this; }
+        /** Copies the values in the specified buffer to the {@code splitPoint} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putSplitPoint(DoubleBuffer src) { scatter(ZDICTFastCoverParams.SPLITPOINT, src); return this; }
+        /** Copies the values in the specified array to the {@code accel} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putAccel(int[] src) { scatter(ZDICTFastCoverParams.ACCEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code accel} field of the structs between the current position and limit. */
+        public ZDICTFastCoverParams.Buffer putAccel(IntBuffer src) { scatter(ZDICTFastCoverParams.ACCEL, src); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -220,6 +220,24 @@ public class ZDICTParams extends Struct implements NativeResource {
         return wrap(ZDICTParams.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZDICTParams} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZDICTParams malloc(MemoryArena arena) {
+        return wrap(ZDICTParams.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZDICTParams} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZDICTParams calloc(MemoryArena arena) {
+        return wrap(ZDICTParams.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZDICTParams.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -258,6 +276,26 @@ public class ZDICTParams extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZDICTParams.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZDICTParams.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZDICTParams.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZDICTParams.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #compressionLevel}. */
@@ -328,6 +366,32 @@ public class ZDICTParams extends Struct implements NativeResource {
         /** Sets the specified value to the {@code dictID} field. */
         public ZDICTParams.Buffer dictID(@NativeType("unsigned") int value) { ZDICTParams.ndictID(address(), value); return this; }
 
+        /** Copies the {@code compressionLevel} field of the structs between the current position and limit to the specified array. */
+        public ZDICTParams.Buffer getCompressionLevel(int[] dst) { gather(ZDICTParams.COMPRESSIONLEVEL, dst); return this; }
+        /** Copies the {@code compressionLevel} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTParams.Buffer getCompressionLevel(IntBuffer dst) { gather(ZDICTParams.COMPRESSIONLEVEL, dst); return this; }
+        /** Copies the {@code notificationLevel} field of the structs between the current position and limit to the specified array. */
+        public ZDICTParams.Buffer getNotificationLevel(int[] dst) { gather(ZDICTParams.NOTIFICATIONLEVEL, dst); return this; }
+        /** Copies the {@code notificationLevel} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTParams.Buffer getNotificationLevel(IntBuffer dst) { gather(ZDICTParams.NOTIFICATIONLEVEL, dst); return this; }
+        /** Copies the {@code dictID} field of the structs between the current position and limit to the specified array. */
+        public ZDICTParams.Buffer getDictID(int[] dst) { gather(ZDICTParams.DICTID, dst); return this; }
+        /** Copies the {@code dictID} field of the structs between the current position and limit to the specified buffer. */
+        public ZDICTParams.Buffer getDictID(IntBuffer dst) { gather(ZDICTParams.DICTID, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code compressionLevel} field of the structs between the current position and limit. */
+        public ZDICTParams.Buffer putCompressionLevel(int[] src) { scatter(ZDICTParams.COMPRESSIONLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code compressionLevel} field of the structs between the current position and limit. */
+        public ZDICTParams.Buffer putCompressionLevel(IntBuffer src) { scatter(ZDICTParams.COMPRESSIONLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code notificationLevel} field of the structs between the current position and limit. */
+        public ZDICTParams.Buffer putNotificationLevel(int[] src) { scatter(ZDICTParams.NOTIFICATIONLEVEL, src); return this; }
+        /** Copies the values in the specified buffer to the {@code notificationLevel} field of the structs between the current position and limit. */
+        public ZDICTParams.Buffer putNotificationLevel(IntBuffer src) { scatter(ZDICTParams.NOTIFICATIONLEVEL, src); return this; }
+        /** Copies the values in the specified array to the {@code dictID} field of the structs between the current position and limit. */
+        public ZDICTParams.Buffer putDictID(int[] src) { scatter(ZDICTParams.DICTID, src); return this; }
+        /** Copies the values in the specified buffer to the {@code dictID} field of the structs between the current position and limit. */
+        public ZDICTParams.Buffer putDictID(IntBuffer src) { scatter(ZDICTParams.DICTID, src); return this; }
+
     }
 
 }
\ No newline at end of file
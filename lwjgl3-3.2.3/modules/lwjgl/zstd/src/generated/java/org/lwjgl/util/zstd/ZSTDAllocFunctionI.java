@@ -7,8 +7,6 @@ package org.lwjgl.util.zstd;
 
 import org.lwjgl.system.*;
 
-import static org.lwjgl.system.dyncall.DynCallback.*;
-
 /**
  * Instances of this interface may be passed to the {@link ZSTDCustomMem} struct.
  * 
@@ -22,7 +20,7 @@ import static org.lwjgl.system.dyncall.DynCallback.*;
  */
 @FunctionalInterface
 @NativeType("ZSTD_allocFunction")
-public interface ZSTDAllocFunctionI extends CallbackI.P {
+public interface ZSTDAllocFunctionI extends CallbackI.P_PP {
 
     String SIGNATURE = "(pp)p";
 
@@ -30,11 +28,8 @@ public interface ZSTDAllocFunctionI extends CallbackI.P {
     default String getSignature() { return SIGNATURE; }
 
     @Override
-    default long callback(long args) {
-        return invoke(
-            dcbArgPointer(args),
-            dcbArgPointer(args)
-        );
+    default long callback(long opaque, long size) {
+        return invoke(opaque, size);
     }
 
     @NativeType("void *") long invoke(@NativeType("void *") long opaque, @NativeType("size_t") long size);
@@ -179,6 +179,24 @@ public class ZSTDBounds extends Struct implements NativeResource {
         return wrap(ZSTDBounds.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZSTDBounds} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDBounds malloc(MemoryArena arena) {
+        return wrap(ZSTDBounds.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZSTDBounds} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDBounds calloc(MemoryArena arena) {
+        return wrap(ZSTDBounds.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZSTDBounds.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -217,6 +235,26 @@ public class ZSTDBounds extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZSTDBounds.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDBounds.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZSTDBounds.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDBounds.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #error}. */
@@ -272,6 +310,15 @@ public class ZSTDBounds extends Struct implements NativeResource {
         /** Returns the value of the {@code upperBound} field. */
         public int upperBound() { return ZSTDBounds.nupperBound(address()); }
 
+        /** Copies the {@code lowerBound} field of the structs between the current position and limit to the specified array. */
+        public ZSTDBounds.Buffer getLowerBound(int[] dst) { gather(ZSTDBounds.LOWERBOUND, dst); return this; }
+        /** Copies the {@code lowerBound} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDBounds.Buffer getLowerBound(IntBuffer dst) { gather(ZSTDBounds.LOWERBOUND, dst); return this; }
+        /** Copies the {@code upperBound} field of the structs between the current position and limit to the specified array. */
+        public ZSTDBounds.Buffer getUpperBound(int[] dst) { gather(ZSTDBounds.UPPERBOUND, dst); return this; }
+        /** Copies the {@code upperBound} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDBounds.Buffer getUpperBound(IntBuffer dst) { gather(ZSTDBounds.UPPERBOUND, dst); return this; }
+
     }
 
 }
\ No newline at end of file
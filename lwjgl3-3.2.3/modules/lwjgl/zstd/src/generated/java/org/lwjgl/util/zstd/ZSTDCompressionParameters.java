@@ -269,6 +269,24 @@ public class ZSTDCompressionParameters extends Struct implements NativeResource
         return wrap(ZSTDCompressionParameters.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZSTDCompressionParameters} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDCompressionParameters malloc(MemoryArena arena) {
+        return wrap(ZSTDCompressionParameters.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZSTDCompressionParameters} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDCompressionParameters calloc(MemoryArena arena) {
+        return wrap(ZSTDCompressionParameters.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZSTDCompressionParameters.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -307,6 +325,26 @@ public class ZSTDCompressionParameters extends Struct implements NativeResource
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZSTDCompressionParameters.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDCompressionParameters.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZSTDCompressionParameters.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDCompressionParameters.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #windowLog}. */
@@ -414,6 +452,64 @@ public class ZSTDCompressionParameters extends Struct implements NativeResource
         /** Sets the specified value to the {@code strategy} field. */
         public ZSTDCompressionParameters.Buffer strategy(@NativeType("ZSTD_strategy") int value) { ZSTDCompressionParameters.nstrategy(address(), value); return this; }
 
+        /** Copies the {@code windowLog} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getWindowLog(int[] dst) { gather(ZSTDCompressionParameters.WINDOWLOG, dst); return this; }
+        /** Copies the {@code windowLog} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getWindowLog(IntBuffer dst) { gather(ZSTDCompressionParameters.WINDOWLOG, dst); return this; }
+        /** Copies the {@code chainLog} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getChainLog(int[] dst) { gather(ZSTDCompressionParameters.CHAINLOG, dst); return this; }
+        /** Copies the {@code chainLog} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getChainLog(IntBuffer dst) { gather(ZSTDCompressionParameters.CHAINLOG, dst); return this; }
+        /** Copies the {@code hashLog} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getHashLog(int[] dst) { gather(ZSTDCompressionParameters.HASHLOG, dst); return this; }
+        /** Copies the {@code hashLog} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getHashLog(IntBuffer dst) { gather(ZSTDCompressionParameters.HASHLOG, dst); return this; }
+        /** Copies the {@code searchLog} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getSearchLog(int[] dst) { gather(ZSTDCompressionParameters.SEARCHLOG, dst); return this; }
+        /** Copies the {@code searchLog} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getSearchLog(IntBuffer dst) { gather(ZSTDCompressionParameters.SEARCHLOG, dst); return this; }
+        /** Copies the {@code minMatch} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getMinMatch(int[] dst) { gather(ZSTDCompressionParameters.MINMATCH, dst); return this; }
+        /** Copies the {@code minMatch} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getMinMatch(IntBuffer dst) { gather(ZSTDCompressionParameters.MINMATCH, dst); return this; }
+        /** Copies the {@code targetLength} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getTargetLength(int[] dst) { gather(ZSTDCompressionParameters.TARGETLENGTH, dst); return this; }
+        /** Copies the {@code targetLength} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getTargetLength(IntBuffer dst) { gather(ZSTDCompressionParameters.TARGETLENGTH, dst); return this; }
+        /** Copies the {@code strategy} field of the structs between the current position and limit to the specified array. */
+        public ZSTDCompressionParameters.Buffer getStrategy(int[] dst) { gather(ZSTDCompressionParameters.STRATEGY, dst); return this; }
+        /** Copies the {@code strategy} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDCompressionParameters.Buffer getStrategy(IntBuffer dst) { gather(ZSTDCompressionParameters.STRATEGY, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code windowLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putWindowLog(int[] src) { scatter(ZSTDCompressionParameters.WINDOWLOG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code windowLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putWindowLog(IntBuffer src) { scatter(ZSTDCompressionParameters.WINDOWLOG, src); return this; }
+        /** Copies the values in the specified array to the {@code chainLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putChainLog(int[] src) { scatter(ZSTDCompressionParameters.CHAINLOG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code chainLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putChainLog(IntBuffer src) { scatter(ZSTDCompressionParameters.CHAINLOG, src); return this; }
+        /** Copies the values in the specified array to the {@code hashLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putHashLog(int[] src) { scatter(ZSTDCompressionParameters.HASHLOG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code hashLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putHashLog(IntBuffer src) { scatter(ZSTDCompressionParameters.HASHLOG, src); return this; }
+        /** Copies the values in the specified array to the {@code searchLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putSearchLog(int[] src) { scatter(ZSTDCompressionParameters.SEARCHLOG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code searchLog} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putSearchLog(IntBuffer src) { scatter(ZSTDCompressionParameters.SEARCHLOG, src); return this; }
+        /** Copies the values in the specified array to the {@code minMatch} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putMinMatch(int[] src) { scatter(ZSTDCompressionParameters.MINMATCH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code minMatch} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putMinMatch(IntBuffer src) { scatter(ZSTDCompressionParameters.MINMATCH, src); return this; }
+        /** Copies the values in the specified array to the {@code targetLength} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putTargetLength(int[] src) { scatter(ZSTDCompressionParameters.TARGETLENGTH, src); return this; }
+        /** Copies the values in the specified buffer to the {@code targetLength} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putTargetLength(IntBuffer src) { scatter(ZSTDCompressionParameters.TARGETLENGTH, src); return this; }
+        /** Copies the values in the specified array to the {@code strategy} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putStrategy(int[] src) { scatter(ZSTDCompressionParameters.STRATEGY, src); return this; }
+        /** Copies the values in the specified buffer to the {@code strategy} field of the structs between the current position and limit. */
+        public ZSTDCompressionParameters.Buffer putStrategy(IntBuffer src) { scatter(ZSTDCompressionParameters.STRATEGY, src); return this; }
+
     }
 
 }
\ No newline at end of file
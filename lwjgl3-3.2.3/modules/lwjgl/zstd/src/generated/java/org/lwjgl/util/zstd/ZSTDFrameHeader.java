@@ -217,6 +217,24 @@ public class ZSTDFrameHeader extends Struct implements NativeResource {
         return wrap(ZSTDFrameHeader.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZSTDFrameHeader} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDFrameHeader malloc(MemoryArena arena) {
+        return wrap(ZSTDFrameHeader.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZSTDFrameHeader} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDFrameHeader calloc(MemoryArena arena) {
+        return wrap(ZSTDFrameHeader.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZSTDFrameHeader.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -255,6 +273,26 @@ public class ZSTDFrameHeader extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZSTDFrameHeader.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDFrameHeader.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZSTDFrameHeader.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDFrameHeader.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #frameContentSize}. */
@@ -332,6 +370,35 @@ public class ZSTDFrameHeader extends Struct implements NativeResource {
         @NativeType("unsigned int")
         public int checksumFlag() { return ZSTDFrameHeader.nchecksumFlag(address()); }
 
+        /** Copies the {@code frameContentSize} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getFrameContentSize(long[] dst) { gather(ZSTDFrameHeader.FRAMECONTENTSIZE, dst); return this; }
+        /** Copies the {@code frameContentSize} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getFrameContentSize(LongBuffer dst) { gather(ZSTDFrameHeader.FRAMECONTENTSIZE, dst); return this; }
+        /** Copies the {@code windowSize} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getWindowSize(long[] dst) { gather(ZSTDFrameHeader.WINDOWSIZE, dst); return this; }
+        /** Copies the {@code windowSize} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getWindowSize(LongBuffer dst) { gather(ZSTDFrameHeader.WINDOWSIZE, dst); return this; }
+        /** Copies the {@code blockSizeMax} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getBlockSizeMax(int[] dst) { gather(ZSTDFrameHeader.BLOCKSIZEMAX, dst); return this; }
+        /** Copies the {@code blockSizeMax} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getBlockSizeMax(IntBuffer dst) { gather(ZSTDFrameHeader.BLOCKSIZEMAX, dst); return this; }
+        /** Copies the {@code frameType} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getFrameType(int[] dst) { gather(ZSTDFrameHeader.FRAMETYPE, dst); return this; }
+        /** Copies the {@code frameType} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getFrameType(IntBuffer dst) { gather(ZSTDFrameHeader.FRAMETYPE, dst); return this; }
+        /** Copies the {@code headerSize} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getHeaderSize(int[] dst) { gather(ZSTDFrameHeader.HEADERSIZE, dst); return this; }
+        /** Copies the {@code headerSize} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getHeaderSize(IntBuffer dst) { gather(ZSTDFrameHeader.HEADERSIZE, dst); return this; }
+        /** Copies the {@code dictID} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getDictID(int[] dst) { gather(ZSTDFrameHeader.DICTID, dst); return this; }
+        /** Copies the {@code dictID} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getDictID(IntBuffer dst) { gather(ZSTDFrameHeader.DICTID, dst); return this; }
+        /** Copies the {@code checksumFlag} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameHeader.Buffer getChecksumFlag(int[] dst) { gather(ZSTDFrameHeader.CHECKSUMFLAG, dst); return this; }
+        /** Copies the {@code checksumFlag} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameHeader.Buffer getChecksumFlag(IntBuffer dst) { gather(ZSTDFrameHeader.CHECKSUMFLAG, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -218,6 +218,24 @@ public class ZSTDFrameParameters extends Struct implements NativeResource {
         return wrap(ZSTDFrameParameters.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZSTDFrameParameters} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDFrameParameters malloc(MemoryArena arena) {
+        return wrap(ZSTDFrameParameters.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZSTDFrameParameters} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDFrameParameters calloc(MemoryArena arena) {
+        return wrap(ZSTDFrameParameters.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZSTDFrameParameters.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -256,6 +274,26 @@ public class ZSTDFrameParameters extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZSTDFrameParameters.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDFrameParameters.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZSTDFrameParameters.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDFrameParameters.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #contentSizeFlag}. */
@@ -324,6 +362,32 @@ public class ZSTDFrameParameters extends Struct implements NativeResource {
         /** Sets the specified value to the {@code noDictIDFlag} field. */
         public ZSTDFrameParameters.Buffer noDictIDFlag(int value) { ZSTDFrameParameters.nnoDictIDFlag(address(), value); return this; }
 
+        /** Copies the {@code contentSizeFlag} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameParameters.Buffer getContentSizeFlag(int[] dst) { gather(ZSTDFrameParameters.CONTENTSIZEFLAG, dst); return this; }
+        /** Copies the {@code contentSizeFlag} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameParameters.Buffer getContentSizeFlag(IntBuffer dst) { gather(ZSTDFrameParameters.CONTENTSIZEFLAG, dst); return this; }
+        /** Copies the {@code checksumFlag} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameParameters.Buffer getChecksumFlag(int[] dst) { gather(ZSTDFrameParameters.CHECKSUMFLAG, dst); return this; }
+        /** Copies the {@code checksumFlag} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameParameters.Buffer getChecksumFlag(IntBuffer dst) { gather(ZSTDFrameParameters.CHECKSUMFLAG, dst); return this; }
+        /** Copies the {@code noDictIDFlag} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameParameters.Buffer getNoDictIDFlag(int[] dst) { gather(ZSTDFrameParameters.NODICTIDFLAG, dst); return this; }
+        /** Copies the {@code noDictIDFlag} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameParameters.Buffer getNoDictIDFlag(IntBuffer dst) { gather(ZSTDFrameParameters.NODICTIDFLAG, dst); return this; }
+
+        /** Copies the values in the specified array to the {@code contentSizeFlag} field of the structs between the current position and limit. */
+        public ZSTDFrameParameters.Buffer putContentSizeFlag(int[] src) { scatter(ZSTDFrameParameters.CONTENTSIZEFLAG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code contentSizeFlag} field of the structs between the current position and limit. */
+        public ZSTDFrameParameters.Buffer putContentSizeFlag(IntBuffer src) { scatter(ZSTDFrameParameters.CONTENTSIZEFLAG, src); return this; }
+        /** Copies the values in the specified array to the {@code checksumFlag} field of the structs between the current position and limit. */
+        public ZSTDFrameParameters.Buffer putChecksumFlag(int[] src) { scatter(ZSTDFrameParameters.CHECKSUMFLAG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code checksumFlag} field of the structs between the current position and limit. */
+        public ZSTDFrameParameters.Buffer putChecksumFlag(IntBuffer src) { scatter(ZSTDFrameParameters.CHECKSUMFLAG, src); return this; }
+        /** Copies the values in the specified array to the {@code noDictIDFlag} field of the structs between the current position and limit. */
+        public ZSTDFrameParameters.Buffer putNoDictIDFlag(int[] src) { scatter(ZSTDFrameParameters.NODICTIDFLAG, src); return this; }
+        /** Copies the values in the specified buffer to the {@code noDictIDFlag} field of the structs between the current position and limit. */
+        public ZSTDFrameParameters.Buffer putNoDictIDFlag(IntBuffer src) { scatter(ZSTDFrameParameters.NODICTIDFLAG, src); return this; }
+
     }
 
 }
\ No newline at end of file
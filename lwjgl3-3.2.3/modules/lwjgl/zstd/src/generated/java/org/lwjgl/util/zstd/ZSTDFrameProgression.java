@@ -213,6 +213,24 @@ public class ZSTDFrameProgression extends Struct implements NativeResource {
         return wrap(ZSTDFrameProgression.class, stack.ncalloc(ALIGNOF, 1, SIZEOF));
     }
 
+    /**
+     * Returns a new {@code ZSTDFrameProgression} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDFrameProgression malloc(MemoryArena arena) {
+        return wrap(ZSTDFrameProgression.class, arena.nmalloc(ALIGNOF, SIZEOF));
+    }
+
+    /**
+     * Returns a new {@code ZSTDFrameProgression} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param arena the arena from which to allocate
+     */
+    public static ZSTDFrameProgression calloc(MemoryArena arena) {
+        return wrap(ZSTDFrameProgression.class, arena.ncalloc(ALIGNOF, 1, SIZEOF));
+    }
+
     /**
      * Returns a new {@link ZSTDFrameProgression.Buffer} instance allocated on the thread-local {@link MemoryStack}.
      *
@@ -251,6 +269,26 @@ public class ZSTDFrameProgression extends Struct implements NativeResource {
         return wrap(Buffer.class, stack.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
     }
 
+    /**
+     * Returns a new {@link ZSTDFrameProgression.Buffer} instance allocated in the specified {@link MemoryArena}.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDFrameProgression.Buffer malloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.nmalloc(ALIGNOF, __checkMalloc(capacity, SIZEOF)), capacity);
+    }
+
+    /**
+     * Returns a new {@link ZSTDFrameProgression.Buffer} instance allocated in the specified {@link MemoryArena} and initializes all its bits to zero.
+     *
+     * @param capacity the buffer capacity
+     * @param arena    the arena from which to allocate
+     */
+    public static ZSTDFrameProgression.Buffer calloc(int capacity, MemoryArena arena) {
+        return wrap(Buffer.class, arena.ncalloc(ALIGNOF, capacity, SIZEOF), capacity);
+    }
+
     // -----------------------------------
 
     /** Unsafe version of {@link #ingested}. */
@@ -323,6 +361,31 @@ public class ZSTDFrameProgression extends Struct implements NativeResource {
         @NativeType("unsigned int")
         public int nbActiveWorkers() { return ZSTDFrameProgression.nnbActiveWorkers(address()); }
 
+        /** Copies the {@code ingested} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameProgression.Buffer getIngested(long[] dst) { gather(ZSTDFrameProgression.INGESTED, dst); return this; }
+        /** Copies the {@code ingested} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameProgression.Buffer getIngested(LongBuffer dst) { gather(ZSTDFrameProgression.INGESTED, dst); return this; }
+        /** Copies the {@code consumed} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameProgression.Buffer getConsumed(long[] dst) { gather(ZSTDFrameProgression.CONSUMED, dst); return this; }
+        /** Copies the {@code consumed} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameProgression.Buffer getConsumed(LongBuffer dst) { gather(ZSTDFrameProgression.CONSUMED, dst); return this; }
+        /** Copies the {@code produced} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameProgression.Buffer getProduced(long[] dst) { gather(ZSTDFrameProgression.PRODUCED, dst); return this; }
+        /** Copies the {@code produced} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameProgression.Buffer getProduced(LongBuffer dst) { gather(ZSTDFrameProgression.PRODUCED, dst); return this; }
+        /** Copies the {@code flushed} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameProgression.Buffer getFlushed(long[] dst) { gather(ZSTDFrameProgression.FLUSHED, dst); return this; }
+        /** Copies the {@code flushed} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameProgression.Buffer getFlushed(LongBuffer dst) { gather(ZSTDFrameProgression.FLUSHED, dst); return this; }
+        /** Copies the {@code currentJobID} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameProgression.Buffer getCurrentJobID(int[] dst) { gather(ZSTDFrameProgression.CURRENTJOBID, dst); return this; }
+        /** Copies the {@code currentJobID} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameProgression.Buffer getCurrentJobID(IntBuffer dst) { gather(ZSTDFrameProgression.CURRENTJOBID, dst); return this; }
+        /** Copies the {@code nbActiveWorkers} field of the structs between the current position and limit to the specified array. */
+        public ZSTDFrameProgression.Buffer getNbActiveWorkers(int[] dst) { gather(ZSTDFrameProgression.NBACTIVEWORKERS, dst); return this; }
+        /** Copies the {@code nbActiveWorkers} field of the structs between the current position and limit to the specified buffer. */
+        public ZSTDFrameProgression.Buffer getNbActiveWorkers(IntBuffer dst) { gather(ZSTDFrameProgression.NBACTIVEWORKERS, dst); return this; }
+
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ public class Zdict {
         ZDICT_CONTENTSIZE_MIN = 128,
         ZDICT_DICTSIZE_MIN    = 256;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Zdict.class, "ZDICT_trainFromBuffer,ZDICT_getDictID,ZDICT_isError,ZDICT_getErrorName,ZDICT_trainFromBuffer_cover,ZDICT_optimizeTrainFromBuffer_cover,ZDICT_trainFromBuffer_fastCover,ZDICT_optimizeTrainFromBuffer_fastCover,ZDICT_finalizeDictionary");
+
     static { LibZstd.initialize(); }
 
     protected Zdict() {
@@ -64,7 +66,8 @@ public class Zdict {
                 check(samplesBuffer, getSamplesBufferSize(samplesSizes));
             }
         }
-        return nZDICT_trainFromBuffer(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nZDICT_trainFromBuffer(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining()));
     }
 
     // --- [ ZDICT_getDictID ] ---
@@ -79,7 +82,8 @@ public class Zdict {
      */
     @NativeType("unsigned int")
     public static int ZDICT_getDictID(@NativeType("void const *") ByteBuffer dictBuffer) {
-        return nZDICT_getDictID(memAddress(dictBuffer), dictBuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nZDICT_getDictID(memAddress(dictBuffer), dictBuffer.remaining()));
     }
 
     // --- [ ZDICT_isError ] ---
@@ -88,7 +92,8 @@ public class Zdict {
 
     @NativeType("unsigned int")
     public static boolean ZDICT_isError(@NativeType("size_t") long errorCode) {
-        return nZDICT_isError(errorCode) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nZDICT_isError(errorCode)) != 0;
     }
 
     // --- [ ZDICT_getErrorName ] ---
@@ -98,7 +103,8 @@ public class Zdict {
     @Nullable
     @NativeType("char const *")
     public static String ZDICT_getErrorName(@NativeType("size_t") long errorCode) {
-        long __result = nZDICT_getErrorName(errorCode);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 3, __start, nZDICT_getErrorName(errorCode));
         return memASCIISafe(__result);
     }
 
@@ -135,7 +141,8 @@ public class Zdict {
                 check(samplesBuffer, getSamplesBufferSize(samplesSizes));
             }
         }
-        return nZDICT_trainFromBuffer_cover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nZDICT_trainFromBuffer_cover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address()));
     }
 
     // --- [ ZDICT_optimizeTrainFromBuffer_cover ] ---
@@ -169,7 +176,8 @@ public class Zdict {
                 check(samplesBuffer, getSamplesBufferSize(samplesSizes));
             }
         }
-        return nZDICT_optimizeTrainFromBuffer_cover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nZDICT_optimizeTrainFromBuffer_cover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address()));
     }
 
     // --- [ ZDICT_trainFromBuffer_fastCover ] ---
@@ -200,7 +208,8 @@ public class Zdict {
                 check(samplesBuffer, getSamplesBufferSize(samplesSizes));
             }
         }
-        return nZDICT_trainFromBuffer_fastCover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nZDICT_trainFromBuffer_fastCover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address()));
     }
 
     // --- [ ZDICT_optimizeTrainFromBuffer_fastCover ] ---
@@ -236,7 +245,8 @@ public class Zdict {
                 check(samplesBuffer, getSamplesBufferSize(samplesSizes));
             }
         }
-        return nZDICT_optimizeTrainFromBuffer_fastCover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nZDICT_optimizeTrainFromBuffer_fastCover(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address()));
     }
 
     // --- [ ZDICT_finalizeDictionary ] ---
@@ -268,7 +278,8 @@ public class Zdict {
                 check(samplesBuffer, getSamplesBufferSize(samplesSizes));
             }
         }
-        return nZDICT_finalizeDictionary(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(dictContent), dictContent.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nZDICT_finalizeDictionary(memAddress(dictBuffer), dictBuffer.remaining(), memAddress(dictContent), dictContent.remaining(), memAddress(samplesBuffer), memAddress(samplesSizes), samplesSizes.remaining(), parameters.address()));
     }
 
     private static long getSamplesBufferSize(PointerBuffer samplesSizes) {
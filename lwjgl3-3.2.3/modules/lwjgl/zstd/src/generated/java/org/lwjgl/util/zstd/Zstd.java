@@ -380,6 +380,8 @@ public class Zstd {
         ZSTD_e_flush    = 1,
         ZSTD_e_end      = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(Zstd.class, "ZSTD_versionString,ZSTD_compress,ZSTD_decompress,ZSTD_getFrameContentSize,ZSTD_findFrameCompressedSize,ZSTD_isError,ZSTD_getErrorName,ZSTD_freeCCtx,ZSTD_compressCCtx,ZSTD_freeDCtx,ZSTD_decompressDCtx,ZSTD_cParam_getBounds,ZSTD_CCtx_setParameter,ZSTD_CCtx_setPledgedSrcSize,ZSTD_CCtx_reset,ZSTD_compress2,ZSTD_dParam_getBounds,ZSTD_DCtx_setParameter,ZSTD_DCtx_reset,ZSTD_freeCStream,ZSTD_compressStream2,ZSTD_freeDStream,ZSTD_decompressStream,ZSTD_compress_usingDict,ZSTD_decompress_usingDict,ZSTD_createCDict,ZSTD_freeCDict,ZSTD_compress_usingCDict,ZSTD_createDDict,ZSTD_freeDDict,ZSTD_decompress_usingDDict,ZSTD_getDictID_fromDict,ZSTD_getDictID_fromDDict,ZSTD_getDictID_fromFrame,ZSTD_CCtx_loadDictionary,ZSTD_CCtx_refCDict,ZSTD_CCtx_refPrefix,ZSTD_DCtx_loadDictionary,ZSTD_DCtx_refDDict,ZSTD_DCtx_refPrefix,ZSTD_sizeof_CCtx,ZSTD_sizeof_DCtx,ZSTD_sizeof_CStream,ZSTD_sizeof_DStream,ZSTD_sizeof_CDict,ZSTD_sizeof_DDict");
+
     static { LibZstd.initialize(); }
 
     protected Zstd() {
@@ -400,7 +402,8 @@ public class Zstd {
     /** Returns the version string. */
     @NativeType("char const *")
     public static String ZSTD_versionString() {
-        long __result = nZSTD_versionString();
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nZSTD_versionString());
         return memASCII(__result);
     }
 
@@ -418,7 +421,8 @@ public class Zstd {
      */
     @NativeType("size_t")
     public static long ZSTD_compress(@NativeType("void *") ByteBuffer dst, @NativeType("void const *") ByteBuffer src, int compressionLevel) {
-        return nZSTD_compress(memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nZSTD_compress(memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), compressionLevel));
     }
 
     // --- [ ZSTD_decompress ] ---
@@ -438,7 +442,8 @@ public class Zstd {
      */
     @NativeType("size_t")
     public static long ZSTD_decompress(@NativeType("void *") ByteBuffer dst, @NativeType("void const *") ByteBuffer src) {
-        return nZSTD_decompress(memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nZSTD_decompress(memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_getFrameContentSize ] ---
@@ -478,7 +483,8 @@ public class Zstd {
      */
     @NativeType("unsigned long long")
     public static long ZSTD_getFrameContentSize(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_getFrameContentSize(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nZSTD_getFrameContentSize(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_findFrameCompressedSize ] ---
@@ -498,7 +504,8 @@ public class Zstd {
      */
     @NativeType("size_t")
     public static long ZSTD_findFrameCompressedSize(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_findFrameCompressedSize(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nZSTD_findFrameCompressedSize(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_compressBound ] ---
@@ -515,7 +522,8 @@ public class Zstd {
     /** Tells if a {@code size_t} function result is an error code. */
     @NativeType("unsigned int")
     public static boolean ZSTD_isError(@NativeType("size_t") long code) {
-        return nZSTD_isError(code) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nZSTD_isError(code)) != 0;
     }
 
     // --- [ ZSTD_getErrorName ] ---
@@ -526,7 +534,8 @@ public class Zstd {
     /** Provides readable string from an error code. */
     @NativeType("char const *")
     public static String ZSTD_getErrorName(@NativeType("size_t") long code) {
-        long __result = nZSTD_getErrorName(code);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID + 6, __start, nZSTD_getErrorName(code));
         return memASCII(__result);
     }
 
@@ -562,7 +571,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_freeCCtx(cctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nZSTD_freeCCtx(cctx));
     }
 
     // --- [ ZSTD_compressCCtx ] ---
@@ -576,7 +586,8 @@ public class Zstd {
         if (CHECKS) {
             check(ctx);
         }
-        return nZSTD_compressCCtx(ctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nZSTD_compressCCtx(ctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), compressionLevel));
     }
 
     // --- [ ZSTD_createDCtx ] ---
@@ -601,7 +612,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_freeDCtx(dctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nZSTD_freeDCtx(dctx));
     }
 
     // --- [ ZSTD_decompressDCtx ] ---
@@ -615,7 +627,8 @@ public class Zstd {
         if (CHECKS) {
             check(ctx);
         }
-        return nZSTD_decompressDCtx(ctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nZSTD_decompressDCtx(ctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_cParam_getBounds ] ---
@@ -636,7 +649,9 @@ public class Zstd {
      */
     @NativeType("ZSTD_bounds")
     public static ZSTDBounds ZSTD_cParam_getBounds(@NativeType("ZSTD_cParameter") int cParam, @NativeType("ZSTD_bounds") ZSTDBounds __result) {
+        long __start = FunctionProfiler.start();
         nZSTD_cParam_getBounds(cParam, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 11, __start);
         return __result;
     }
 
@@ -663,7 +678,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_setParameter(cctx, param, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nZSTD_CCtx_setParameter(cctx, param, value));
     }
 
     // --- [ ZSTD_CCtx_setPledgedSrcSize ] ---
@@ -693,7 +709,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_setPledgedSrcSize(cctx, pledgedSrcSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nZSTD_CCtx_setPledgedSrcSize(cctx, pledgedSrcSize));
     }
 
     // --- [ ZSTD_CCtx_reset ] ---
@@ -721,7 +738,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_reset(cctx, reset);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nZSTD_CCtx_reset(cctx, reset));
     }
 
     // --- [ ZSTD_compress2 ] ---
@@ -745,7 +763,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compress2(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nZSTD_compress2(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_dParam_getBounds ] ---
@@ -761,7 +780,9 @@ public class Zstd {
      */
     @NativeType("ZSTD_bounds")
     public static ZSTDBounds ZSTD_dParam_getBounds(@NativeType("ZSTD_dParameter") int dParam, @NativeType("ZSTD_bounds") ZSTDBounds __result) {
+        long __start = FunctionProfiler.start();
         nZSTD_dParam_getBounds(dParam, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 16, __start);
         return __result;
     }
 
@@ -785,7 +806,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_setParameter(dctx, param, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nZSTD_DCtx_setParameter(dctx, param, value));
     }
 
     // --- [ ZSTD_DCtx_reset ] ---
@@ -807,7 +829,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_reset(dctx, reset);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nZSTD_DCtx_reset(dctx, reset));
     }
 
     // --- [ ZSTD_createCStream ] ---
@@ -835,7 +858,8 @@ public class Zstd {
         if (CHECKS) {
             check(zcs);
         }
-        return nZSTD_freeCStream(zcs);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nZSTD_freeCStream(zcs));
     }
 
     // --- [ ZSTD_compressStream2 ] ---
@@ -876,7 +900,8 @@ public class Zstd {
             ZSTDOutBuffer.validate(output.address());
             ZSTDInBuffer.validate(input.address());
         }
-        return nZSTD_compressStream2(cctx, output.address(), input.address(), endOp);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nZSTD_compressStream2(cctx, output.address(), input.address(), endOp));
     }
 
     // --- [ ZSTD_CStreamInSize ] ---
@@ -923,7 +948,8 @@ public class Zstd {
         if (CHECKS) {
             check(zds);
         }
-        return nZSTD_freeDStream(zds);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nZSTD_freeDStream(zds));
     }
 
     // --- [ ZSTD_decompressStream ] ---
@@ -951,7 +977,8 @@ public class Zstd {
             ZSTDOutBuffer.validate(output.address());
             ZSTDInBuffer.validate(input.address());
         }
-        return nZSTD_decompressStream(zds, output.address(), input.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 22, __start, nZSTD_decompressStream(zds, output.address(), input.address()));
     }
 
     // --- [ ZSTD_DStreamInSize ] ---
@@ -985,7 +1012,8 @@ public class Zstd {
         if (CHECKS) {
             check(ctx);
         }
-        return nZSTD_compress_usingDict(ctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), memAddressSafe(dict), remainingSafe(dict), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 23, __start, nZSTD_compress_usingDict(ctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), memAddressSafe(dict), remainingSafe(dict), compressionLevel));
     }
 
     // --- [ ZSTD_decompress_usingDict ] ---
@@ -1005,7 +1033,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_decompress_usingDict(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), memAddressSafe(dict), remainingSafe(dict));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nZSTD_decompress_usingDict(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), memAddressSafe(dict), remainingSafe(dict)));
     }
 
     // --- [ ZSTD_createCDict ] ---
@@ -1026,7 +1055,8 @@ public class Zstd {
      */
     @NativeType("ZSTD_CDict *")
     public static long ZSTD_createCDict(@NativeType("void const *") ByteBuffer dictBuffer, int compressionLevel) {
-        return nZSTD_createCDict(memAddress(dictBuffer), dictBuffer.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 25, __start, nZSTD_createCDict(memAddress(dictBuffer), dictBuffer.remaining(), compressionLevel));
     }
 
     // --- [ ZSTD_freeCDict ] ---
@@ -1040,7 +1070,8 @@ public class Zstd {
         if (CHECKS) {
             check(CDict);
         }
-        return nZSTD_freeCDict(CDict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nZSTD_freeCDict(CDict));
     }
 
     // --- [ ZSTD_compress_usingCDict ] ---
@@ -1059,7 +1090,8 @@ public class Zstd {
             check(cctx);
             check(cdict);
         }
-        return nZSTD_compress_usingCDict(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), cdict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nZSTD_compress_usingCDict(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), cdict));
     }
 
     // --- [ ZSTD_createDDict ] ---
@@ -1074,7 +1106,8 @@ public class Zstd {
      */
     @NativeType("ZSTD_DDict *")
     public static long ZSTD_createDDict(@NativeType("void const *") ByteBuffer dictBuffer) {
-        return nZSTD_createDDict(memAddress(dictBuffer), dictBuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nZSTD_createDDict(memAddress(dictBuffer), dictBuffer.remaining()));
     }
 
     // --- [ ZSTD_freeDDict ] ---
@@ -1088,7 +1121,8 @@ public class Zstd {
         if (CHECKS) {
             check(ddict);
         }
-        return nZSTD_freeDDict(ddict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nZSTD_freeDDict(ddict));
     }
 
     // --- [ ZSTD_decompress_usingDDict ] ---
@@ -1107,7 +1141,8 @@ public class Zstd {
             check(dctx);
             check(ddict);
         }
-        return nZSTD_decompress_usingDDict(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), ddict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, nZSTD_decompress_usingDDict(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), ddict));
     }
 
     // --- [ ZSTD_getDictID_fromDict ] ---
@@ -1122,7 +1157,8 @@ public class Zstd {
      */
     @NativeType("unsigned int")
     public static int ZSTD_getDictID_fromDict(@NativeType("void const *") ByteBuffer dict) {
-        return nZSTD_getDictID_fromDict(memAddress(dict), dict.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, nZSTD_getDictID_fromDict(memAddress(dict), dict.remaining()));
     }
 
     // --- [ ZSTD_getDictID_fromDDict ] ---
@@ -1142,7 +1178,8 @@ public class Zstd {
         if (CHECKS) {
             check(ddict);
         }
-        return nZSTD_getDictID_fromDDict(ddict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, nZSTD_getDictID_fromDDict(ddict));
     }
 
     // --- [ ZSTD_getDictID_fromFrame ] ---
@@ -1167,7 +1204,8 @@ public class Zstd {
      */
     @NativeType("unsigned int")
     public static int ZSTD_getDictID_fromFrame(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_getDictID_fromFrame(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nZSTD_getDictID_fromFrame(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_CCtx_loadDictionary ] ---
@@ -1198,7 +1236,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_loadDictionary(cctx, memAddressSafe(dict), remainingSafe(dict));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, nZSTD_CCtx_loadDictionary(cctx, memAddressSafe(dict), remainingSafe(dict)));
     }
 
     // --- [ ZSTD_CCtx_refCDict ] ---
@@ -1225,7 +1264,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_refCDict(cctx, cdict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nZSTD_CCtx_refCDict(cctx, cdict));
     }
 
     // --- [ ZSTD_CCtx_refPrefix ] ---
@@ -1260,7 +1300,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_refPrefix(cctx, memAddressSafe(prefix), remainingSafe(prefix));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nZSTD_CCtx_refPrefix(cctx, memAddressSafe(prefix), remainingSafe(prefix)));
     }
 
     // --- [ ZSTD_DCtx_loadDictionary ] ---
@@ -1289,7 +1330,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_loadDictionary(dctx, memAddressSafe(dict), remainingSafe(dict));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, nZSTD_DCtx_loadDictionary(dctx, memAddressSafe(dict), remainingSafe(dict)));
     }
 
     // --- [ ZSTD_DCtx_refDDict ] ---
@@ -1313,7 +1355,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_refDDict(dctx, ddict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, nZSTD_DCtx_refDDict(dctx, ddict));
     }
 
     // --- [ ZSTD_DCtx_refPrefix ] ---
@@ -1343,7 +1386,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_refPrefix(dctx, memAddress(prefix), prefix.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, nZSTD_DCtx_refPrefix(dctx, memAddress(prefix), prefix.remaining()));
     }
 
     // --- [ ZSTD_sizeof_CCtx ] ---
@@ -1355,7 +1399,8 @@ public class Zstd {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_sizeof_CCtx(cctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, nZSTD_sizeof_CCtx(cctx));
     }
 
     // --- [ ZSTD_sizeof_DCtx ] ---
@@ -1367,7 +1412,8 @@ public class Zstd {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_sizeof_DCtx(dctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, nZSTD_sizeof_DCtx(dctx));
     }
 
     // --- [ ZSTD_sizeof_CStream ] ---
@@ -1379,7 +1425,8 @@ public class Zstd {
         if (CHECKS) {
             check(zcs);
         }
-        return nZSTD_sizeof_CStream(zcs);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, nZSTD_sizeof_CStream(zcs));
     }
 
     // --- [ ZSTD_sizeof_DStream ] ---
@@ -1391,7 +1438,8 @@ public class Zstd {
         if (CHECKS) {
             check(zds);
         }
-        return nZSTD_sizeof_DStream(zds);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, nZSTD_sizeof_DStream(zds));
     }
 
     // --- [ ZSTD_sizeof_CDict ] ---
@@ -1403,7 +1451,8 @@ public class Zstd {
         if (CHECKS) {
             check(cdict);
         }
-        return nZSTD_sizeof_CDict(cdict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nZSTD_sizeof_CDict(cdict));
     }
 
     // --- [ ZSTD_sizeof_DDict ] ---
@@ -1415,7 +1464,8 @@ public class Zstd {
         if (CHECKS) {
             check(ddict);
         }
-        return nZSTD_sizeof_DDict(ddict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, nZSTD_sizeof_DDict(ddict));
     }
 
     /** Pure Java version of {@link #ZSTD_compressBound}. */
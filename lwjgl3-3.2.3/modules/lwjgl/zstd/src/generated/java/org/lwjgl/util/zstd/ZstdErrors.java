@@ -72,6 +72,8 @@ public class ZstdErrors {
         ZSTD_error_frameIndex_tooLarge           = 100,
         ZSTD_error_seekableIO                    = 102;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ZstdErrors.class, "ZSTD_getErrorString");
+
     static { LibZstd.initialize(); }
 
     protected ZstdErrors() {
@@ -89,7 +91,8 @@ public class ZstdErrors {
 
     @NativeType("char const *")
     public static String ZSTD_getErrorString(@NativeType("ZSTD_ErrorCode") int code) {
-        long __result = nZSTD_getErrorString(code);
+        long __start = FunctionProfiler.start();
+        long __result = FunctionProfiler.end(PROFILE_ID, __start, nZSTD_getErrorString(code));
         return memASCII(__result);
     }
 
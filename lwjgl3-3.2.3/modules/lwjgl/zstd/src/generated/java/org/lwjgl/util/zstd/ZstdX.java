@@ -255,6 +255,8 @@ public class ZstdX {
         ZSTD_lcm_huffman      = 1,
         ZSTD_lcm_uncompressed = 2;
 
+    private static final int PROFILE_ID = FunctionProfiler.register(ZstdX.class, "ZSTD_findDecompressedSize,ZSTD_decompressBound,ZSTD_frameHeaderSize,ZSTD_estimateCCtxSize_usingCParams,ZSTD_estimateCCtxSize_usingCCtxParams,ZSTD_estimateCStreamSize_usingCParams,ZSTD_estimateCStreamSize_usingCCtxParams,ZSTD_estimateDStreamSize_fromFrame,ZSTD_estimateCDictSize_advanced,ZSTD_initStaticCCtx,ZSTD_initStaticCStream,ZSTD_initStaticDCtx,ZSTD_initStaticDStream,ZSTD_initStaticCDict,ZSTD_initStaticDDict,ZSTD_createCCtx_advanced,ZSTD_createCStream_advanced,ZSTD_createDCtx_advanced,ZSTD_createDStream_advanced,ZSTD_createCDict_advanced,ZSTD_createDDict_advanced,ZSTD_createCDict_byReference,ZSTD_getCParams,ZSTD_getParams,ZSTD_checkCParams,ZSTD_adjustCParams,ZSTD_compress_advanced,ZSTD_compress_usingCDict_advanced,ZSTD_CCtx_loadDictionary_byReference,ZSTD_CCtx_loadDictionary_advanced,ZSTD_CCtx_refPrefix_advanced,ZSTD_CCtx_getParameter,ZSTD_freeCCtxParams,ZSTD_CCtxParams_reset,ZSTD_CCtxParams_init,ZSTD_CCtxParams_init_advanced,ZSTD_CCtxParams_setParameter,ZSTD_CCtxParams_getParameter,ZSTD_CCtx_setParametersUsingCCtxParams,ZSTD_compressStream2_simpleArgs,ZSTD_isFrame,ZSTD_createDDict_byReference,ZSTD_DCtx_loadDictionary_byReference,ZSTD_DCtx_loadDictionary_advanced,ZSTD_DCtx_refPrefix_advanced,ZSTD_DCtx_setMaxWindowSize,ZSTD_DCtx_setFormat,ZSTD_decompressStream_simpleArgs,ZSTD_getFrameProgression,ZSTD_toFlushNow,ZSTD_compressBegin,ZSTD_compressBegin_usingDict,ZSTD_compressBegin_advanced,ZSTD_compressBegin_usingCDict,ZSTD_compressBegin_usingCDict_advanced,ZSTD_copyCCtx,ZSTD_compressContinue,ZSTD_compressEnd,ZSTD_getFrameHeader,ZSTD_getFrameHeader_advanced,ZSTD_decompressBegin,ZSTD_decompressBegin_usingDict,ZSTD_decompressBegin_usingDDict,ZSTD_nextSrcSizeToDecompress,ZSTD_decompressContinue,ZSTD_copyDCtx,ZSTD_nextInputType,ZSTD_getBlockSize,ZSTD_compressBlock,ZSTD_decompressBlock,ZSTD_insertBlock");
+
     static { LibZstd.initialize(); }
 
     protected ZstdX() {
@@ -295,7 +297,8 @@ public class ZstdX {
      */
     @NativeType("unsigned long long")
     public static long ZSTD_findDecompressedSize(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_findDecompressedSize(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID, __start, nZSTD_findDecompressedSize(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_decompressBound ] ---
@@ -322,7 +325,8 @@ public class ZstdX {
      */
     @NativeType("unsigned long long")
     public static long ZSTD_decompressBound(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_decompressBound(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 1, __start, nZSTD_decompressBound(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_frameHeaderSize ] ---
@@ -337,7 +341,8 @@ public class ZstdX {
     /** @return : size of the Frame Header, or an error code (if srcSize is too small) */
     @NativeType("size_t")
     public static long ZSTD_frameHeaderSize(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_frameHeaderSize(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 2, __start, nZSTD_frameHeaderSize(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_estimateCCtxSize ] ---
@@ -363,7 +368,8 @@ public class ZstdX {
 
     @NativeType("size_t")
     public static long ZSTD_estimateCCtxSize_usingCParams(@NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters cParams) {
-        return nZSTD_estimateCCtxSize_usingCParams(cParams.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 3, __start, nZSTD_estimateCCtxSize_usingCParams(cParams.address()));
     }
 
     // --- [ ZSTD_estimateCCtxSize_usingCCtxParams ] ---
@@ -375,7 +381,8 @@ public class ZstdX {
         if (CHECKS) {
             check(params);
         }
-        return nZSTD_estimateCCtxSize_usingCCtxParams(params);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 4, __start, nZSTD_estimateCCtxSize_usingCCtxParams(params));
     }
 
     // --- [ ZSTD_estimateDCtxSize ] ---
@@ -411,7 +418,8 @@ public class ZstdX {
 
     @NativeType("size_t")
     public static long ZSTD_estimateCStreamSize_usingCParams(@NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters cParams) {
-        return nZSTD_estimateCStreamSize_usingCParams(cParams.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 5, __start, nZSTD_estimateCStreamSize_usingCParams(cParams.address()));
     }
 
     // --- [ ZSTD_estimateCStreamSize_usingCCtxParams ] ---
@@ -423,7 +431,8 @@ public class ZstdX {
         if (CHECKS) {
             check(params);
         }
-        return nZSTD_estimateCStreamSize_usingCCtxParams(params);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 6, __start, nZSTD_estimateCStreamSize_usingCCtxParams(params));
     }
 
     // --- [ ZSTD_estimateDStreamSize ] ---
@@ -437,7 +446,8 @@ public class ZstdX {
 
     @NativeType("size_t")
     public static long ZSTD_estimateDStreamSize_fromFrame(@NativeType("void const *") ByteBuffer src) {
-        return nZSTD_estimateDStreamSize_fromFrame(memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 7, __start, nZSTD_estimateDStreamSize_fromFrame(memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_estimateCDictSize ] ---
@@ -453,7 +463,8 @@ public class ZstdX {
     /** @param dictLoadMethod one of:<br><table><tr><td>{@link #ZSTD_dlm_byCopy dlm_byCopy}</td><td>{@link #ZSTD_dlm_byRef dlm_byRef}</td></tr></table> */
     @NativeType("size_t")
     public static long ZSTD_estimateCDictSize_advanced(@NativeType("size_t") long dictSize, @NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters cParams, @NativeType("ZSTD_dictLoadMethod_e") int dictLoadMethod) {
-        return nZSTD_estimateCDictSize_advanced(dictSize, cParams.address(), dictLoadMethod);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 8, __start, nZSTD_estimateCDictSize_advanced(dictSize, cParams.address(), dictLoadMethod));
     }
 
     // --- [ ZSTD_estimateDDictSize ] ---
@@ -468,7 +479,8 @@ public class ZstdX {
 
     @NativeType("ZSTD_CCtx *")
     public static long ZSTD_initStaticCCtx(@NativeType("void *") ByteBuffer workspace) {
-        return nZSTD_initStaticCCtx(memAddress(workspace), workspace.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 9, __start, nZSTD_initStaticCCtx(memAddress(workspace), workspace.remaining()));
     }
 
     // --- [ ZSTD_initStaticCStream ] ---
@@ -477,7 +489,8 @@ public class ZstdX {
 
     @NativeType("ZSTD_CStream *")
     public static long ZSTD_initStaticCStream(@NativeType("void *") ByteBuffer workspace) {
-        return nZSTD_initStaticCStream(memAddress(workspace), workspace.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 10, __start, nZSTD_initStaticCStream(memAddress(workspace), workspace.remaining()));
     }
 
     // --- [ ZSTD_initStaticDCtx ] ---
@@ -486,7 +499,8 @@ public class ZstdX {
 
     @NativeType("ZSTD_DCtx *")
     public static long ZSTD_initStaticDCtx(@NativeType("void *") ByteBuffer workspace) {
-        return nZSTD_initStaticDCtx(memAddress(workspace), workspace.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 11, __start, nZSTD_initStaticDCtx(memAddress(workspace), workspace.remaining()));
     }
 
     // --- [ ZSTD_initStaticDStream ] ---
@@ -495,7 +509,8 @@ public class ZstdX {
 
     @NativeType("ZSTD_DStream *")
     public static long ZSTD_initStaticDStream(@NativeType("void *") ByteBuffer workspace) {
-        return nZSTD_initStaticDStream(memAddress(workspace), workspace.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 12, __start, nZSTD_initStaticDStream(memAddress(workspace), workspace.remaining()));
     }
 
     // --- [ ZSTD_initStaticCDict ] ---
@@ -509,7 +524,8 @@ public class ZstdX {
      */
     @NativeType("ZSTD_CDict const *")
     public static long ZSTD_initStaticCDict(@NativeType("void *") ByteBuffer workspace, @NativeType("void const *") ByteBuffer dict, @NativeType("ZSTD_dictLoadMethod_e") int dictLoadMethod, @NativeType("ZSTD_dictContentType_e") int dictContentType, @NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters cParams) {
-        return nZSTD_initStaticCDict(memAddress(workspace), workspace.remaining(), memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType, cParams.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 13, __start, nZSTD_initStaticCDict(memAddress(workspace), workspace.remaining(), memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType, cParams.address()));
     }
 
     // --- [ ZSTD_initStaticDDict ] ---
@@ -523,7 +539,8 @@ public class ZstdX {
      */
     @NativeType("ZSTD_DDict const *")
     public static long ZSTD_initStaticDDict(@NativeType("void *") ByteBuffer workspace, @NativeType("void const *") ByteBuffer dict, @NativeType("ZSTD_dictLoadMethod_e") int dictLoadMethod, @NativeType("ZSTD_dictContentType_e") int dictContentType) {
-        return nZSTD_initStaticDDict(memAddress(workspace), workspace.remaining(), memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 14, __start, nZSTD_initStaticDDict(memAddress(workspace), workspace.remaining(), memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType));
     }
 
     // --- [ ZSTD_createCCtx_advanced ] ---
@@ -535,7 +552,8 @@ public class ZstdX {
         if (CHECKS) {
             ZSTDCustomMem.validate(customMem.address());
         }
-        return nZSTD_createCCtx_advanced(customMem.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 15, __start, nZSTD_createCCtx_advanced(customMem.address()));
     }
 
     // --- [ ZSTD_createCStream_advanced ] ---
@@ -547,7 +565,8 @@ public class ZstdX {
         if (CHECKS) {
             ZSTDCustomMem.validate(customMem.address());
         }
-        return nZSTD_createCStream_advanced(customMem.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 16, __start, nZSTD_createCStream_advanced(customMem.address()));
     }
 
     // --- [ ZSTD_createDCtx_advanced ] ---
@@ -559,7 +578,8 @@ public class ZstdX {
         if (CHECKS) {
             ZSTDCustomMem.validate(customMem.address());
         }
-        return nZSTD_createDCtx_advanced(customMem.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 17, __start, nZSTD_createDCtx_advanced(customMem.address()));
     }
 
     // --- [ ZSTD_createDStream_advanced ] ---
@@ -571,7 +591,8 @@ public class ZstdX {
         if (CHECKS) {
             ZSTDCustomMem.validate(customMem.address());
         }
-        return nZSTD_createDStream_advanced(customMem.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 18, __start, nZSTD_createDStream_advanced(customMem.address()));
     }
 
     // --- [ ZSTD_createCDict_advanced ] ---
@@ -588,7 +609,8 @@ public class ZstdX {
         if (CHECKS) {
             ZSTDCustomMem.validate(customMem.address());
         }
-        return nZSTD_createCDict_advanced(memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType, cParams.address(), customMem.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 19, __start, nZSTD_createCDict_advanced(memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType, cParams.address(), customMem.address()));
     }
 
     // --- [ ZSTD_createDDict_advanced ] ---
@@ -605,7 +627,8 @@ public class ZstdX {
         if (CHECKS) {
             ZSTDCustomMem.validate(customMem.address());
         }
-        return nZSTD_createDDict_advanced(memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType, customMem.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 20, __start, nZSTD_createDDict_advanced(memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType, customMem.address()));
     }
 
     // --- [ ZSTD_createCDict_byReference ] ---
@@ -621,7 +644,8 @@ public class ZstdX {
      */
     @NativeType("ZSTD_CDict *")
     public static long ZSTD_createCDict_byReference(@NativeType("void const *") ByteBuffer dictBuffer, int compressionLevel) {
-        return nZSTD_createCDict_byReference(memAddress(dictBuffer), dictBuffer.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 21, __start, nZSTD_createCDict_byReference(memAddress(dictBuffer), dictBuffer.remaining(), compressionLevel));
     }
 
     // --- [ ZSTD_getCParams ] ---
@@ -636,7 +660,9 @@ public class ZstdX {
      */
     @NativeType("ZSTD_compressionParameters")
     public static ZSTDCompressionParameters ZSTD_getCParams(int compressionLevel, @NativeType("unsigned long long") long estimatedSrcSize, @NativeType("size_t") long dictSize, @NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters __result) {
+        long __start = FunctionProfiler.start();
         nZSTD_getCParams(compressionLevel, estimatedSrcSize, dictSize, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 22, __start);
         return __result;
     }
 
@@ -654,7 +680,9 @@ public class ZstdX {
      */
     @NativeType("ZSTD_parameters")
     public static ZSTDParameters ZSTD_getParams(int compressionLevel, @NativeType("unsigned long long") long estimatedSrcSize, @NativeType("size_t") long dictSize, @NativeType("ZSTD_parameters") ZSTDParameters __result) {
+        long __start = FunctionProfiler.start();
         nZSTD_getParams(compressionLevel, estimatedSrcSize, dictSize, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 23, __start);
         return __result;
     }
 
@@ -670,7 +698,8 @@ public class ZstdX {
      */
     @NativeType("size_t")
     public static long ZSTD_checkCParams(@NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters params) {
-        return nZSTD_checkCParams(params.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 24, __start, nZSTD_checkCParams(params.address()));
     }
 
     // --- [ ZSTD_adjustCParams ] ---
@@ -681,7 +710,9 @@ public class ZstdX {
     /** Optimizes params for a given {@code srcSize} and {@code dictSize}. Both values are optional, select 0 if unknown. */
     @NativeType("ZSTD_compressionParameters")
     public static ZSTDCompressionParameters ZSTD_adjustCParams(@NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters cPar, @NativeType("unsigned long long") long srcSize, @NativeType("size_t") long dictSize, @NativeType("ZSTD_compressionParameters") ZSTDCompressionParameters __result) {
+        long __start = FunctionProfiler.start();
         nZSTD_adjustCParams(cPar.address(), srcSize, dictSize, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 25, __start);
         return __result;
     }
 
@@ -696,7 +727,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compress_advanced(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), memAddress(dict), dict.remaining(), params.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 26, __start, nZSTD_compress_advanced(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), memAddress(dict), dict.remaining(), params.address()));
     }
 
     // --- [ ZSTD_compress_usingCDict_advanced ] ---
@@ -711,7 +743,8 @@ public class ZstdX {
             check(cctx);
             check(cdict);
         }
-        return nZSTD_compress_usingCDict_advanced(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), cdict, fParams.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 27, __start, nZSTD_compress_usingCDict_advanced(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining(), cdict, fParams.address()));
     }
 
     // --- [ ZSTD_CCtx_loadDictionary_byReference ] ---
@@ -729,7 +762,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_loadDictionary_byReference(cctx, memAddress(dict), dict.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 28, __start, nZSTD_CCtx_loadDictionary_byReference(cctx, memAddress(dict), dict.remaining()));
     }
 
     // --- [ ZSTD_CCtx_loadDictionary_advanced ] ---
@@ -749,7 +783,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_loadDictionary_advanced(cctx, memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 29, __start, nZSTD_CCtx_loadDictionary_advanced(cctx, memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType));
     }
 
     // --- [ ZSTD_CCtx_refPrefix_advanced ] ---
@@ -767,7 +802,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_CCtx_refPrefix_advanced(cctx, memAddress(prefix), prefix.remaining(), dictContentType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 30, __start, nZSTD_CCtx_refPrefix_advanced(cctx, memAddress(prefix), prefix.remaining(), dictContentType));
     }
 
     // --- [ ZSTD_CCtx_getParameter ] ---
@@ -788,7 +824,8 @@ public class ZstdX {
             check(cctx);
             check(value, 1);
         }
-        return nZSTD_CCtx_getParameter(cctx, param, memAddress(value));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 31, __start, nZSTD_CCtx_getParameter(cctx, param, memAddress(value)));
     }
 
     // --- [ ZSTD_createCCtxParams ] ---
@@ -806,7 +843,8 @@ public class ZstdX {
         if (CHECKS) {
             check(params);
         }
-        return nZSTD_freeCCtxParams(params);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 32, __start, nZSTD_freeCCtxParams(params));
     }
 
     // --- [ ZSTD_CCtxParams_reset ] ---
@@ -820,7 +858,8 @@ public class ZstdX {
         if (CHECKS) {
             check(params);
         }
-        return nZSTD_CCtxParams_reset(params);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 33, __start, nZSTD_CCtxParams_reset(params));
     }
 
     // --- [ ZSTD_CCtxParams_init ] ---
@@ -834,7 +873,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctxParams);
         }
-        return nZSTD_CCtxParams_init(cctxParams, compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 34, __start, nZSTD_CCtxParams_init(cctxParams, compressionLevel));
     }
 
     // --- [ ZSTD_CCtxParams_init_advanced ] ---
@@ -848,7 +888,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctxParams);
         }
-        return nZSTD_CCtxParams_init_advanced(cctxParams, params.address());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 35, __start, nZSTD_CCtxParams_init_advanced(cctxParams, params.address()));
     }
 
     // --- [ ZSTD_CCtxParams_setParameter ] ---
@@ -870,7 +911,8 @@ public class ZstdX {
         if (CHECKS) {
             check(params);
         }
-        return nZSTD_CCtxParams_setParameter(params, param, value);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 36, __start, nZSTD_CCtxParams_setParameter(params, param, value));
     }
 
     // --- [ ZSTD_CCtxParams_getParameter ] ---
@@ -891,7 +933,8 @@ public class ZstdX {
             check(params);
             check(value, 1);
         }
-        return nZSTD_CCtxParams_getParameter(params, param, memAddress(value));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 37, __start, nZSTD_CCtxParams_getParameter(params, param, memAddress(value)));
     }
 
     // --- [ ZSTD_CCtx_setParametersUsingCCtxParams ] ---
@@ -912,7 +955,8 @@ public class ZstdX {
             check(cctx);
             check(params);
         }
-        return nZSTD_CCtx_setParametersUsingCCtxParams(cctx, params);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 38, __start, nZSTD_CCtx_setParametersUsingCCtxParams(cctx, params));
     }
 
     // --- [ ZSTD_compressStream2_simpleArgs ] ---
@@ -934,7 +978,8 @@ public class ZstdX {
             check(dstPos, 1);
             check(srcPos, 1);
         }
-        return nZSTD_compressStream2_simpleArgs(cctx, memAddress(dst), dst.remaining(), memAddress(dstPos), memAddress(src), src.remaining(), memAddress(srcPos), endOp);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 39, __start, nZSTD_compressStream2_simpleArgs(cctx, memAddress(dst), dst.remaining(), memAddress(dstPos), memAddress(src), src.remaining(), memAddress(srcPos), endOp));
     }
 
     // --- [ ZSTD_isFrame ] ---
@@ -955,7 +1000,8 @@ public class ZstdX {
      */
     @NativeType("unsigned int")
     public static boolean ZSTD_isFrame(@NativeType("void const *") ByteBuffer buffer) {
-        return nZSTD_isFrame(memAddress(buffer), buffer.remaining()) != 0;
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 40, __start, nZSTD_isFrame(memAddress(buffer), buffer.remaining())) != 0;
     }
 
     // --- [ ZSTD_createDDict_byReference ] ---
@@ -971,7 +1017,8 @@ public class ZstdX {
      */
     @NativeType("ZSTD_DDict *")
     public static long ZSTD_createDDict_byReference(@NativeType("void const *") ByteBuffer dictBuffer) {
-        return nZSTD_createDDict_byReference(memAddress(dictBuffer), dictBuffer.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 41, __start, nZSTD_createDDict_byReference(memAddress(dictBuffer), dictBuffer.remaining()));
     }
 
     // --- [ ZSTD_DCtx_loadDictionary_byReference ] ---
@@ -990,7 +1037,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_loadDictionary_byReference(dctx, memAddress(dict), dict.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 42, __start, nZSTD_DCtx_loadDictionary_byReference(dctx, memAddress(dict), dict.remaining()));
     }
 
     // --- [ ZSTD_DCtx_loadDictionary_advanced ] ---
@@ -1010,7 +1058,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_loadDictionary_advanced(dctx, memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 43, __start, nZSTD_DCtx_loadDictionary_advanced(dctx, memAddress(dict), dict.remaining(), dictLoadMethod, dictContentType));
     }
 
     // --- [ ZSTD_DCtx_refPrefix_advanced ] ---
@@ -1028,7 +1077,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_refPrefix_advanced(dctx, memAddress(prefix), prefix.remaining(), dictContentType);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 44, __start, nZSTD_DCtx_refPrefix_advanced(dctx, memAddress(prefix), prefix.remaining(), dictContentType));
     }
 
     // --- [ ZSTD_DCtx_setMaxWindowSize ] ---
@@ -1050,7 +1100,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_setMaxWindowSize(dctx, maxWindowSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 45, __start, nZSTD_DCtx_setMaxWindowSize(dctx, maxWindowSize));
     }
 
     // --- [ ZSTD_DCtx_setFormat ] ---
@@ -1072,7 +1123,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_DCtx_setFormat(dctx, format);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 46, __start, nZSTD_DCtx_setFormat(dctx, format));
     }
 
     // --- [ ZSTD_decompressStream_simpleArgs ] ---
@@ -1092,7 +1144,8 @@ public class ZstdX {
             check(dstPos, 1);
             check(srcPos, 1);
         }
-        return nZSTD_decompressStream_simpleArgs(dctx, memAddress(dst), dst.remaining(), memAddress(dstPos), memAddress(src), src.remaining(), memAddress(srcPos));
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 47, __start, nZSTD_decompressStream_simpleArgs(dctx, memAddress(dst), dst.remaining(), memAddress(dstPos), memAddress(src), src.remaining(), memAddress(srcPos)));
     }
 
     // --- [ ZSTD_getFrameProgression ] ---
@@ -1111,7 +1164,9 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
+        long __start = FunctionProfiler.start();
         nZSTD_getFrameProgression(cctx, __result.address());
+        FunctionProfiler.end(PROFILE_ID + 48, __start);
         return __result;
     }
 
@@ -1139,7 +1194,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_toFlushNow(cctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 49, __start, nZSTD_toFlushNow(cctx));
     }
 
     // --- [ ZSTD_compressBegin ] ---
@@ -1151,7 +1207,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compressBegin(cctx, compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 50, __start, nZSTD_compressBegin(cctx, compressionLevel));
     }
 
     // --- [ ZSTD_compressBegin_usingDict ] ---
@@ -1163,7 +1220,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compressBegin_usingDict(cctx, memAddress(dict), dict.remaining(), compressionLevel);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 51, __start, nZSTD_compressBegin_usingDict(cctx, memAddress(dict), dict.remaining(), compressionLevel));
     }
 
     // --- [ ZSTD_compressBegin_advanced ] ---
@@ -1175,7 +1233,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compressBegin_advanced(cctx, memAddress(dict), dict.remaining(), params.address(), pledgedSrcSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 52, __start, nZSTD_compressBegin_advanced(cctx, memAddress(dict), dict.remaining(), params.address(), pledgedSrcSize));
     }
 
     // --- [ ZSTD_compressBegin_usingCDict ] ---
@@ -1188,7 +1247,8 @@ public class ZstdX {
             check(cctx);
             check(cdict);
         }
-        return nZSTD_compressBegin_usingCDict(cctx, cdict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 53, __start, nZSTD_compressBegin_usingCDict(cctx, cdict));
     }
 
     // --- [ ZSTD_compressBegin_usingCDict_advanced ] ---
@@ -1203,7 +1263,8 @@ public class ZstdX {
             check(cctx);
             check(cdict);
         }
-        return nZSTD_compressBegin_usingCDict_advanced(cctx, cdict, fParams.address(), pledgedSrcSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 54, __start, nZSTD_compressBegin_usingCDict_advanced(cctx, cdict, fParams.address(), pledgedSrcSize));
     }
 
     // --- [ ZSTD_copyCCtx ] ---
@@ -1218,7 +1279,8 @@ public class ZstdX {
             check(cctx);
             check(preparedCCtx);
         }
-        return nZSTD_copyCCtx(cctx, preparedCCtx, pledgedSrcSize);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 55, __start, nZSTD_copyCCtx(cctx, preparedCCtx, pledgedSrcSize));
     }
 
     // --- [ ZSTD_compressContinue ] ---
@@ -1230,7 +1292,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compressContinue(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 56, __start, nZSTD_compressContinue(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_compressEnd ] ---
@@ -1242,7 +1305,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compressEnd(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 57, __start, nZSTD_compressEnd(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_getFrameHeader ] ---
@@ -1258,7 +1322,8 @@ public class ZstdX {
      */
     @NativeType("size_t")
     public static long ZSTD_getFrameHeader(@NativeType("ZSTD_frameHeader *") ZSTDFrameHeader zfhPtr, @NativeType("void const *") ByteBuffer src) {
-        return nZSTD_getFrameHeader(zfhPtr.address(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 58, __start, nZSTD_getFrameHeader(zfhPtr.address(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_getFrameHeader_advanced ] ---
@@ -1273,7 +1338,8 @@ public class ZstdX {
      */
     @NativeType("size_t")
     public static long ZSTD_getFrameHeader_advanced(@NativeType("ZSTD_frameHeader *") ZSTDFrameHeader zfhPtr, @NativeType("void const *") ByteBuffer src, @NativeType("ZSTD_format_e") int format) {
-        return nZSTD_getFrameHeader_advanced(zfhPtr.address(), memAddress(src), src.remaining(), format);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 59, __start, nZSTD_getFrameHeader_advanced(zfhPtr.address(), memAddress(src), src.remaining(), format));
     }
 
     // --- [ ZSTD_decodingBufferSize_min ] ---
@@ -1290,7 +1356,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_decompressBegin(dctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 60, __start, nZSTD_decompressBegin(dctx));
     }
 
     // --- [ ZSTD_decompressBegin_usingDict ] ---
@@ -1302,7 +1369,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_decompressBegin_usingDict(dctx, memAddress(dict), dict.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 61, __start, nZSTD_decompressBegin_usingDict(dctx, memAddress(dict), dict.remaining()));
     }
 
     // --- [ ZSTD_decompressBegin_usingDDict ] ---
@@ -1315,7 +1383,8 @@ public class ZstdX {
             check(dctx);
             check(ddict);
         }
-        return nZSTD_decompressBegin_usingDDict(dctx, ddict);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 62, __start, nZSTD_decompressBegin_usingDDict(dctx, ddict));
     }
 
     // --- [ ZSTD_nextSrcSizeToDecompress ] ---
@@ -1327,7 +1396,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_nextSrcSizeToDecompress(dctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 63, __start, nZSTD_nextSrcSizeToDecompress(dctx));
     }
 
     // --- [ ZSTD_decompressContinue ] ---
@@ -1339,7 +1409,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_decompressContinue(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 64, __start, nZSTD_decompressContinue(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_copyDCtx ] ---
@@ -1351,7 +1422,9 @@ public class ZstdX {
             check(dctx);
             check(preparedDCtx);
         }
+        long __start = FunctionProfiler.start();
         nZSTD_copyDCtx(dctx, preparedDCtx);
+        FunctionProfiler.end(PROFILE_ID + 65, __start);
     }
 
     // --- [ ZSTD_nextInputType ] ---
@@ -1363,7 +1436,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_nextInputType(dctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 66, __start, nZSTD_nextInputType(dctx));
     }
 
     // --- [ ZSTD_getBlockSize ] ---
@@ -1375,7 +1449,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_getBlockSize(cctx);
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 67, __start, nZSTD_getBlockSize(cctx));
     }
 
     // --- [ ZSTD_compressBlock ] ---
@@ -1387,7 +1462,8 @@ public class ZstdX {
         if (CHECKS) {
             check(cctx);
         }
-        return nZSTD_compressBlock(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 68, __start, nZSTD_compressBlock(cctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_decompressBlock ] ---
@@ -1399,7 +1475,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_decompressBlock(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 69, __start, nZSTD_decompressBlock(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
     }
 
     // --- [ ZSTD_insertBlock ] ---
@@ -1413,7 +1490,8 @@ public class ZstdX {
         if (CHECKS) {
             check(dctx);
         }
-        return nZSTD_insertBlock(dctx, memAddress(blockStart), blockStart.remaining());
+        long __start = FunctionProfiler.start();
+        return FunctionProfiler.end(PROFILE_ID + 70, __start, nZSTD_insertBlock(dctx, memAddress(blockStart), blockStart.remaining()));
     }
 
 }
\ No newline at end of file
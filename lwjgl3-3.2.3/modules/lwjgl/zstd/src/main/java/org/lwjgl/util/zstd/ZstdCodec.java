@@ -0,0 +1,105 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import org.lwjgl.system.*;
+
+import java.nio.*;
+import java.nio.channels.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * A {@link Codec} that produces Zstandard frames.
+ *
+ * <p>One-shot compression uses {@link Zstd#ZSTD_compressCCtx ZSTD_compressCCtx} and streaming uses {@link ZstdWritableByteChannel}. Compression and
+ * decompression contexts are acquired from a {@link ZstdContextPool}.</p>
+ */
+public final class ZstdCodec implements Codec {
+
+    /** The codec levels of the portable levels {@link #LEVEL_FASTEST} to {@link #LEVEL_BEST}. */
+    private static final int[] LEVELS = {-5, -1, 1, ZSTD_CLEVEL_DEFAULT, 5, 8, 12, 16, 19};
+
+    private final ZstdContextPool pool;
+
+    /** Creates a new codec that uses the default context pool. */
+    public ZstdCodec() {
+        this(ZstdContextPool.getDefault());
+    }
+
+    /**
+     * Creates a new codec.
+     *
+     * @param pool the pool to acquire contexts from
+     */
+    public ZstdCodec(ZstdContextPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public String getName() {
+        return "zstd";
+    }
+
+    @Override
+    public int getDefaultLevel() {
+        return ZSTD_CLEVEL_DEFAULT;
+    }
+
+    @Override
+    public int mapLevel(int level) {
+        if (level < LEVEL_FASTEST || LEVEL_BEST < level) {
+            throw new IllegalArgumentException("Invalid portable level: " + level);
+        }
+        return LEVELS[level - LEVEL_FASTEST];
+    }
+
+    @Override
+    public long compressBound(long size) {
+        return ZSTD_COMPRESSBOUND(size);
+    }
+
+    @Override
+    public long compress(ByteBuffer src, ByteBuffer dst, int level) {
+        long size = src.remaining();
+        if (dst.remaining() < compressBound(size)) {
+            throw new BufferOverflowException();
+        }
+
+        long cctx = pool.acquireCCtx();
+        try {
+            return ZstdIOUtil.checkResult(nZSTD_compressCCtx(cctx, memAddress(dst), dst.remaining(), memAddress(src), size, level));
+        } finally {
+            pool.releaseCCtx(cctx);
+        }
+    }
+
+    @Override
+    public long decompress(ByteBuffer src, ByteBuffer dst) {
+        long dctx = pool.acquireDCtx();
+        try {
+            return ZstdIOUtil.checkResult(nZSTD_decompressDCtx(dctx, memAddress(dst), dst.remaining(), memAddress(src), src.remaining()));
+        } finally {
+            pool.releaseDCtx(dctx);
+        }
+    }
+
+    @Override
+    public WritableByteChannel newCompressingChannel(WritableByteChannel target, int level) {
+        return new ZstdWritableByteChannel(target, level, 0, pool);
+    }
+
+    @Override
+    public ReadableByteChannel newDecompressingChannel(ReadableByteChannel source) {
+        return new ZstdReadableByteChannel(source, pool);
+    }
+
+    /** Does nothing. The context pool is not owned by the codec. */
+    @Override
+    public void free() {
+    }
+
+}
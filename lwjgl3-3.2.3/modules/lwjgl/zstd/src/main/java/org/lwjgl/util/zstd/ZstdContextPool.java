@@ -0,0 +1,143 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * A bounded, thread-safe pool of Zstandard compression and decompression contexts.
+ *
+ * <p>Creating a context allocates several hundred KB of native memory (more with high compression levels or multi-threaded compression), which is expensive
+ * compared to compressing a small message. Contexts released to the pool are reset with {@link Zstd#ZSTD_reset_session_and_parameters
+ * ZSTD_reset_session_and_parameters}, so acquired contexts always have the default parameters. The pool retains up to {@code capacity} idle contexts of each
+ * kind; contexts released to a full pool are freed.</p>
+ *
+ * <p>The pool never blocks. If no idle context is available, a new one is created.</p>
+ */
+public final class ZstdContextPool implements AutoCloseable {
+
+    private static final ZstdContextPool DEFAULT = new ZstdContextPool(Runtime.getRuntime().availableProcessors());
+
+    private final long[] cctxs;
+    private final long[] dctxs;
+
+    private int cctxCount;
+    private int dctxCount;
+
+    private boolean closed;
+
+    /**
+     * Creates a new context pool.
+     *
+     * @param capacity the maximum number of idle contexts of each kind
+     */
+    public ZstdContextPool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+
+        cctxs = new long[capacity];
+        dctxs = new long[capacity];
+    }
+
+    /** Returns the shared context pool, with a capacity equal to the number of available processors. */
+    public static ZstdContextPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns an idle compression context, or a new one if the pool is empty.
+     *
+     * <p>The context must be returned with {@link #releaseCCtx}.</p>
+     *
+     * @throws OutOfMemoryError if the context could not be created
+     */
+    public long acquireCCtx() {
+        synchronized (this) {
+            if (0 < cctxCount) {
+                return cctxs[--cctxCount];
+            }
+        }
+
+        long cctx = ZSTD_createCCtx();
+        if (cctx == NULL) {
+            throw new OutOfMemoryError("Failed to create Zstd compression context.");
+        }
+        return cctx;
+    }
+
+    /**
+     * Resets the specified compression context and returns it to the pool.
+     *
+     * @param cctx a context returned by {@link #acquireCCtx}
+     */
+    public void releaseCCtx(long cctx) {
+        ZSTD_CCtx_reset(cctx, ZSTD_reset_session_and_parameters);
+        synchronized (this) {
+            if (!closed && cctxCount < cctxs.length) {
+                cctxs[cctxCount++] = cctx;
+                return;
+            }
+        }
+        ZSTD_freeCCtx(cctx);
+    }
+
+    /**
+     * Returns an idle decompression context, or a new one if the pool is empty.
+     *
+     * <p>The context must be returned with {@link #releaseDCtx}.</p>
+     *
+     * @throws OutOfMemoryError if the context could not be created
+     */
+    public long acquireDCtx() {
+        synchronized (this) {
+            if (0 < dctxCount) {
+                return dctxs[--dctxCount];
+            }
+        }
+
+        long dctx = ZSTD_createDCtx();
+        if (dctx == NULL) {
+            throw new OutOfMemoryError("Failed to create Zstd decompression context.");
+        }
+        return dctx;
+    }
+
+    /**
+     * Resets the specified decompression context and returns it to the pool.
+     *
+     * @param dctx a context returned by {@link #acquireDCtx}
+     */
+    public void releaseDCtx(long dctx) {
+        ZSTD_DCtx_reset(dctx, ZSTD_reset_session_and_parameters);
+        synchronized (this) {
+            if (!closed && dctxCount < dctxs.length) {
+                dctxs[dctxCount++] = dctx;
+                return;
+            }
+        }
+        ZSTD_freeDCtx(dctx);
+    }
+
+    /**
+     * Frees the idle contexts of this pool.
+     *
+     * <p>Contexts released after this method has been called are freed immediately. The pool remains usable.</p>
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            while (0 < cctxCount) {
+                ZSTD_freeCCtx(cctxs[--cctxCount]);
+            }
+            while (0 < dctxCount) {
+                ZSTD_freeDCtx(dctxs[--dctxCount]);
+            }
+        }
+    }
+
+}
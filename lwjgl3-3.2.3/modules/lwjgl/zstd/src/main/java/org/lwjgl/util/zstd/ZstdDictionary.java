@@ -0,0 +1,148 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import java.nio.*;
+import java.util.concurrent.atomic.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+import static org.lwjgl.util.zstd.ZstdX.*;
+
+/**
+ * A Zstandard dictionary, digested for both compression and decompression.
+ *
+ * <p>The dictionary content is copied to native memory once. The {@code ZSTD_CDict} and {@code ZSTD_DDict} instances reference the content, instead of
+ * copying it again. Instances are managed by a {@link ZstdDictionaryService} and freed when evicted from its cache and no longer in use.</p>
+ */
+public final class ZstdDictionary {
+
+    private final int id;
+
+    private final int level;
+
+    private final ByteBuffer content;
+
+    private final long cdict;
+    private final long ddict;
+
+    /** The number of users, including the owning service. The native resources are freed when this drops to 0. */
+    private final AtomicInteger refCount = new AtomicInteger(1);
+
+    ZstdDictionary(ByteBuffer dictionary, int level) {
+        this.level = level;
+
+        // ByteBuffer.put supports both heap and direct sources
+        content = memAlloc(dictionary.remaining());
+        content.put(dictionary.duplicate());
+        content.flip();
+
+        id = ZSTD_getDictID_fromDict(content);
+
+        cdict = ZSTD_createCDict_byReference(content, level);
+        ddict = ZSTD_createDDict_byReference(content);
+        if (cdict == NULL || ddict == NULL) {
+            free();
+            throw new IllegalArgumentException("Failed to digest Zstd dictionary.");
+        }
+    }
+
+    /** Returns the dictionary ID, as returned by {@link Zstd#ZSTD_getDictID_fromDict ZSTD_getDictID_fromDict}. 0 for raw content dictionaries. */
+    public int getID() {
+        return id;
+    }
+
+    /** Returns the compression level the {@code ZSTD_CDict} was digested with. */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns a copy of the dictionary content, on the Java heap.
+     *
+     * <p>The content may be persisted and registered again with {@link ZstdDictionaryService#register}.</p>
+     *
+     * @throws IllegalStateException if the dictionary has been freed
+     */
+    public ByteBuffer getContent() {
+        acquire();
+        try {
+            ByteBuffer copy = ByteBuffer.allocate(content.capacity());
+            copy.put(content.duplicate());
+            copy.flip();
+            return copy;
+        } finally {
+            release();
+        }
+    }
+
+    /** Returns the dictionary size, in bytes. */
+    public int getSize() {
+        return content.capacity();
+    }
+
+    /**
+     * Returns the native memory used by the digested dictionaries, in bytes.
+     *
+     * @throws IllegalStateException if the dictionary has been freed
+     */
+    public long getDigestedSize() {
+        acquire();
+        try {
+            return ZSTD_sizeof_CDict(cdict) + ZSTD_sizeof_DDict(ddict);
+        } finally {
+            release();
+        }
+    }
+
+    long getCDict() {
+        return cdict;
+    }
+
+    long getDDict() {
+        return ddict;
+    }
+
+    /** Increments the reference count, unless the dictionary has already been freed. */
+    boolean retain() {
+        int count;
+        do {
+            count = refCount.get();
+            if (count == 0) {
+                return false;
+            }
+        } while (!refCount.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    private void acquire() {
+        if (!retain()) {
+            throw new IllegalStateException("The dictionary has been evicted and freed.");
+        }
+    }
+
+    /** Decrements the reference count and frees the dictionary when it drops to 0. */
+    void release() {
+        if (refCount.decrementAndGet() == 0) {
+            free();
+        }
+    }
+
+    private void free() {
+        if (ddict != NULL) {
+            ZSTD_freeDDict(ddict);
+        }
+        if (cdict != NULL) {
+            ZSTD_freeCDict(cdict);
+        }
+        memFree(content);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ZstdDictionary[id=%d, level=%d, size=%d]", id, level, content.capacity());
+    }
+
+}
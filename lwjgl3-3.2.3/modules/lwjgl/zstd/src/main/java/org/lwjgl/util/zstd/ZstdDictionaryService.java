@@ -0,0 +1,387 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import org.lwjgl.*;
+
+import javax.annotation.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.APIUtil.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zdict.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * Trains, versions and caches Zstandard dictionaries for streams of small messages.
+ *
+ * <p>Small messages compress poorly on their own, because each one starts with an empty history. A dictionary trained on representative messages primes
+ * the history. This service:</p>
+ *
+ * <ul>
+ * <li>samples payloads with {@link #sample}, keeping a uniform random subset (reservoir sampling) of the payloads seen since the last training.</li>
+ * <li>trains a new dictionary with {@link Zdict#ZDICT_optimizeTrainFromBuffer_fastCover ZDICT_optimizeTrainFromBuffer_fastCover}, on demand with
+ * {@link #train} or periodically with {@link #scheduleTraining}. The newest dictionary is used for compression.</li>
+ * <li>keeps the digested {@code ZSTD_CDict}/{@code ZSTD_DDict} of the most recent dictionaries in a cache keyed by dictionary ID, the version
+ * reported by {@link Zstd#ZSTD_getDictID_fromDict ZSTD_getDictID_fromDict}.</li>
+ * <li>decompresses frames with the dictionary identified by {@link Zstd#ZSTD_getDictID_fromFrame ZSTD_getDictID_fromFrame}, without digesting it
+ * again.</li>
+ * </ul>
+ *
+ * <p>Receivers that only decompress can {@link #register} dictionaries persisted by the sender. This class is thread-safe.</p>
+ */
+public final class ZstdDictionaryService implements AutoCloseable {
+
+    /** The default maximum dictionary size, 110KB. */
+    public static final int DEFAULT_DICTIONARY_SIZE = 110 * 1024;
+
+    /** The minimum number of samples required for training. */
+    public static final int MIN_SAMPLES = 16;
+
+    private final int level;
+
+    private final int dictionaryCapacity;
+    private final int maxSampleSize;
+    private final int maxDictionaries;
+
+    private final ZstdContextPool pool;
+
+    /** The sample reservoir. Guarded by itself. */
+    private final byte[][] samples;
+    /** The number of payloads seen since the last training. Guarded by {@link #samples}. */
+    private long seen;
+
+    /** The cached dictionaries, keyed by dictionary ID. */
+    private final ConcurrentMap<Integer, ZstdDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    /** The cached dictionaries, from oldest to newest. Guarded by {@code this}. */
+    private final ArrayDeque<ZstdDictionary> versions = new ArrayDeque<>();
+
+    @Nullable
+    private volatile ZstdDictionary current;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new dictionary service with the default settings.
+     *
+     * @param level the compression level
+     */
+    public ZstdDictionaryService(int level) {
+        this(level, DEFAULT_DICTIONARY_SIZE, 10_000, 16 * 1024, 4, ZstdContextPool.getDefault());
+    }
+
+    /**
+     * Creates a new dictionary service.
+     *
+     * @param level              the compression level
+     * @param dictionaryCapacity the maximum size of trained dictionaries, in bytes
+     * @param maxSamples         the maximum number of samples retained for training
+     * @param maxSampleSize      the maximum size of each sample, in bytes. Longer payloads are truncated.
+     * @param maxDictionaries    the maximum number of cached dictionaries. When exceeded, the oldest dictionary is evicted and frames compressed with it
+     *                           can no longer be decompressed.
+     * @param pool               the pool to acquire compression and decompression contexts from
+     */
+    public ZstdDictionaryService(int level, int dictionaryCapacity, int maxSamples, int maxSampleSize, int maxDictionaries, ZstdContextPool pool) {
+        if (dictionaryCapacity <= 0 || maxSamples < MIN_SAMPLES || maxSampleSize <= 0 || maxDictionaries <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.level = level;
+        this.dictionaryCapacity = dictionaryCapacity;
+        this.maxSampleSize = maxSampleSize;
+        this.maxDictionaries = maxDictionaries;
+        this.pool = pool;
+
+        this.samples = new byte[maxSamples][];
+    }
+
+    /**
+     * Offers the remaining bytes of {@code payload} as a training sample.
+     *
+     * <p>The payload is copied if selected by reservoir sampling, its position is not modified. Most calls do not copy anything, once the reservoir is
+     * full.</p>
+     */
+    public void sample(ByteBuffer payload) {
+        synchronized (samples) {
+            long n = seen++;
+
+            int index;
+            if (n < samples.length) {
+                index = (int)n;
+            } else {
+                long r = ThreadLocalRandom.current().nextLong(n + 1);
+                if (samples.length <= r) {
+                    return;
+                }
+                index = (int)r;
+            }
+
+            byte[] sample = new byte[Math.min(payload.remaining(), maxSampleSize)];
+            payload.duplicate().get(sample);
+            samples[index] = sample;
+        }
+    }
+
+    /** Returns the number of samples currently available for training. */
+    public int getSampleCount() {
+        synchronized (samples) {
+            return (int)Math.min(seen, samples.length);
+        }
+    }
+
+    /**
+     * Trains a new dictionary from the current samples and makes it the dictionary used for compression.
+     *
+     * <p>The samples are discarded, so that the next dictionary reflects recent payloads only.</p>
+     *
+     * @return the new dictionary, or null if fewer than {@link #MIN_SAMPLES} samples are available
+     *
+     * @throws IllegalStateException if training failed, for example because the samples are too small for the dictionary capacity
+     */
+    @Nullable
+    public ZstdDictionary train() {
+        byte[][] snapshot;
+        synchronized (samples) {
+            int count = (int)Math.min(seen, samples.length);
+            if (count < MIN_SAMPLES) {
+                return null;
+            }
+
+            snapshot = Arrays.copyOf(samples, count);
+
+            Arrays.fill(samples, null);
+            seen = 0L;
+        }
+
+        long total = 0L;
+        for (byte[] sample : snapshot) {
+            total += sample.length;
+        }
+        if (Integer.MAX_VALUE < total) {
+            throw new IllegalStateException("The samples are too large: " + total);
+        }
+
+        ByteBuffer    samplesBuffer = memAlloc((int)total);
+        PointerBuffer samplesSizes  = memAllocPointer(snapshot.length);
+        ByteBuffer    dictBuffer    = memAlloc(dictionaryCapacity);
+        try (ZDICTFastCoverParams params = ZDICTFastCoverParams.calloc()) {
+            for (byte[] sample : snapshot) {
+                samplesBuffer.put(sample);
+                samplesSizes.put(sample.length);
+            }
+            samplesBuffer.flip();
+            samplesSizes.flip();
+
+            // k and d are zero, the optimizer searches for the best values
+            params
+                .nbThreads(Runtime.getRuntime().availableProcessors())
+                .zParams().compressionLevel(level);
+
+            long size = ZDICT_optimizeTrainFromBuffer_fastCover(dictBuffer, samplesBuffer, samplesSizes, params);
+            if (ZDICT_isError(size)) {
+                throw new IllegalStateException("Zstd dictionary training failed: " + ZDICT_getErrorName(size));
+            }
+
+            dictBuffer.limit((int)size);
+            return register(dictBuffer);
+        } finally {
+            memFree(dictBuffer);
+            memFree(samplesSizes);
+            memFree(samplesBuffer);
+        }
+    }
+
+    /**
+     * Trains a new dictionary periodically, on the specified executor.
+     *
+     * <p>Training is skipped if not enough samples are available. Training failures are logged and do not cancel subsequent executions.</p>
+     *
+     * @return the future of the periodic task, which may be used to cancel it
+     */
+    public ScheduledFuture<?> scheduleTraining(ScheduledExecutorService executor, long period, TimeUnit unit) {
+        return executor.scheduleWithFixedDelay(() -> {
+            if (closed) {
+                return;
+            }
+            try {
+                ZstdDictionary dictionary = train();
+                if (dictionary != null) {
+                    apiLog("[Zstd] Trained dictionary: " + dictionary);
+                }
+            } catch (RuntimeException e) {
+                apiLog("[Zstd] " + e.getMessage());
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Digests and caches the specified dictionary and makes it the dictionary used for compression.
+     *
+     * <p>If a dictionary with the same ID is already cached, the cached dictionary is returned and nothing changes.</p>
+     *
+     * @param dictionary a dictionary in the Zstandard format, in a heap or direct buffer. The content is copied.
+     *
+     * @throws IllegalArgumentException if {@code dictionary} is a raw content dictionary, which cannot be identified by compressed frames
+     */
+    public ZstdDictionary register(ByteBuffer dictionary) {
+        ZstdDictionary dict = new ZstdDictionary(dictionary, level);
+        if (dict.getID() == 0) {
+            dict.release();
+            throw new IllegalArgumentException("Raw content dictionaries are not supported.");
+        }
+
+        synchronized (this) {
+            if (closed) {
+                dict.release();
+                throw new IllegalStateException("The dictionary service has been closed.");
+            }
+
+            ZstdDictionary existing = dictionaries.putIfAbsent(dict.getID(), dict);
+            if (existing != null) {
+                dict.release();
+                return existing;
+            }
+
+            versions.addLast(dict);
+            current = dict;
+
+            while (maxDictionaries < versions.size()) {
+                ZstdDictionary evicted = versions.removeFirst();
+                dictionaries.remove(evicted.getID());
+                evicted.release();
+            }
+        }
+
+        return dict;
+    }
+
+    /**
+     * Returns the dictionary used for compression, or null if no dictionary has been trained or registered yet.
+     *
+     * <p>The returned dictionary may be freed after it has been evicted from the cache.</p>
+     */
+    @Nullable
+    public ZstdDictionary getCurrent() {
+        return current;
+    }
+
+    /**
+     * Returns the cached dictionary with the specified ID, or null if no such dictionary exists.
+     *
+     * <p>The returned dictionary may be freed after it has been evicted from the cache.</p>
+     */
+    @Nullable
+    public ZstdDictionary getDictionary(int id) {
+        return dictionaries.get(id);
+    }
+
+    /** Returns the IDs of the cached dictionaries, from oldest to newest. */
+    public synchronized int[] getDictionaryIDs() {
+        return versions.stream().mapToInt(ZstdDictionary::getID).toArray();
+    }
+
+    /**
+     * Compresses {@code src} into a single frame, using the current dictionary.
+     *
+     * <p>If no dictionary is available, the frame is compressed without a dictionary. The buffer positions are not modified.</p>
+     *
+     * @param dst the destination buffer, {@link Zstd#ZSTD_COMPRESSBOUND ZSTD_COMPRESSBOUND} bytes are always enough
+     * @param src the payload
+     *
+     * @return the compressed size
+     *
+     * @throws IllegalStateException if compression failed, for example because {@code dst} is too small
+     */
+    public long compress(ByteBuffer dst, ByteBuffer src) {
+        ensureOpen();
+
+        ZstdDictionary dict;
+        do {
+            dict = current;
+        } while (dict != null && !dict.retain()); // evicted concurrently, retry
+
+        long cctx = pool.acquireCCtx();
+        try {
+            return ZstdIOUtil.checkResult(dict == null
+                ? ZSTD_compressCCtx(cctx, dst, src, level)
+                : ZSTD_compress_usingCDict(cctx, dst, src, dict.getCDict())
+            );
+        } finally {
+            pool.releaseCCtx(cctx);
+            if (dict != null) {
+                dict.release();
+            }
+        }
+    }
+
+    /**
+     * Decompresses a single frame, using the dictionary identified by the frame header.
+     *
+     * <p>The buffer positions are not modified.</p>
+     *
+     * @param dst the destination buffer
+     * @param src the compressed frame
+     *
+     * @return the decompressed size
+     *
+     * @throws IllegalStateException if the frame references a dictionary that is not cached, or if decompression failed
+     */
+    public long decompress(ByteBuffer dst, ByteBuffer src) {
+        ensureOpen();
+
+        int id = ZSTD_getDictID_fromFrame(src);
+
+        ZstdDictionary dict = null;
+        if (id != 0) {
+            dict = dictionaries.get(id);
+            if (dict == null || !dict.retain()) {
+                throw new IllegalStateException("Unknown Zstd dictionary ID: " + Integer.toUnsignedString(id));
+            }
+        }
+
+        long dctx = pool.acquireDCtx();
+        try {
+            return ZstdIOUtil.checkResult(dict == null
+                ? ZSTD_decompressDCtx(dctx, dst, src)
+                : ZSTD_decompress_usingDDict(dctx, dst, src, dict.getDDict())
+            );
+        } finally {
+            pool.releaseDCtx(dctx);
+            if (dict != null) {
+                dict.release();
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The dictionary service has been closed.");
+        }
+    }
+
+    /**
+     * Evicts all cached dictionaries.
+     *
+     * <p>Dictionaries that are in use by concurrent compress or decompress calls are freed when those calls complete.</p>
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        current = null;
+        dictionaries.clear();
+        for (ZstdDictionary dict : versions) {
+            dict.release();
+        }
+        versions.clear();
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import java.io.*;
+
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/** Error handling shared by the Zstandard channel, stream and dictionary implementations. */
+final class ZstdIOUtil {
+
+    private ZstdIOUtil() {
+    }
+
+    static long check(long code) throws IOException {
+        if (ZSTD_isError(code)) {
+            throw new IOException("Zstd error: " + ZSTD_getErrorName(code));
+        }
+        return code;
+    }
+
+    static long checkResult(long code) {
+        if (ZSTD_isError(code)) {
+            throw new IllegalStateException("Zstd error: " + ZSTD_getErrorName(code));
+        }
+        return code;
+    }
+
+    static void checkParameter(long code, String name, int value) {
+        if (ZSTD_isError(code)) {
+            throw new IllegalArgumentException("Unsupported Zstd parameter " + name + " = " + value + ": " + ZSTD_getErrorName(code));
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * An {@link InputStream} that reads a Zstandard stream from a source stream and decompresses it.
+ *
+ * <p>This is a thin adapter over {@link ZstdReadableByteChannel}. Decompressed data are copied once from native memory to the byte arrays. Prefer the
+ * channel API with direct buffers when the data are consumed off-heap.</p>
+ */
+public class ZstdInputStream extends InputStream {
+
+    private final ZstdReadableByteChannel channel;
+
+    private final byte[] single = new byte[1];
+
+    /**
+     * Creates a new stream that uses the default context pool.
+     *
+     * @param in the stream to read the compressed stream from
+     */
+    public ZstdInputStream(InputStream in) {
+        this(in, ZstdContextPool.getDefault());
+    }
+
+    /**
+     * Creates a new stream.
+     *
+     * @param in   the stream to read the compressed stream from
+     * @param pool the pool to acquire the decompression context from
+     */
+    public ZstdInputStream(InputStream in, ZstdContextPool pool) {
+        this.channel = new ZstdReadableByteChannel(Channels.newChannel(in), pool);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int bytes;
+        do {
+            bytes = read(single, 0, 1);
+        } while (bytes == 0);
+        return bytes == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        ByteBuffer dst = ByteBuffer.wrap(b, off, len);
+
+        int bytes;
+        do {
+            bytes = channel.read(dst);
+        } while (bytes == 0);
+        return bytes;
+    }
+
+    /** Closes this stream and the source stream. */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * An {@link OutputStream} that compresses the bytes written to it and writes a Zstandard stream to a target stream.
+ *
+ * <p>This is a thin adapter over {@link ZstdWritableByteChannel}. Byte arrays are copied once to native memory. Prefer the channel API with direct buffers
+ * when the data are already off-heap.</p>
+ */
+public class ZstdOutputStream extends OutputStream {
+
+    private final OutputStream out;
+
+    private final ZstdWritableByteChannel channel;
+
+    private final byte[] single = new byte[1];
+
+    /**
+     * Creates a new stream with the default compression level, single-threaded compression and the default context pool.
+     *
+     * @param out the stream to write the compressed stream to
+     */
+    public ZstdOutputStream(OutputStream out) {
+        this(out, ZSTD_CLEVEL_DEFAULT, 0, ZstdContextPool.getDefault());
+    }
+
+    /**
+     * Creates a new stream.
+     *
+     * @param out       the stream to write the compressed stream to
+     * @param level     the compression level
+     * @param nbWorkers the number of compression threads, or 0 for single-threaded compression on the calling thread
+     * @param pool      the pool to acquire the compression context from
+     *
+     * @throws IllegalArgumentException if a compression parameter is not supported
+     */
+    public ZstdOutputStream(OutputStream out, int level, int nbWorkers, ZstdContextPool pool) {
+        this.out = out;
+        this.channel = new ZstdWritableByteChannel(Channels.newChannel(out), level, nbWorkers, pool);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte)b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        channel.write(ByteBuffer.wrap(b, off, len));
+    }
+
+    /** Flushes the data buffered in the compression context and the target stream. See {@link ZstdWritableByteChannel#flush}. */
+    @Override
+    public void flush() throws IOException {
+        channel.flush();
+        out.flush();
+    }
+
+    /** See {@link ZstdWritableByteChannel#endFrame}. */
+    public void endFrame() throws IOException {
+        channel.endFrame();
+    }
+
+    /** Ends the current frame, flushes it and closes the target stream. */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
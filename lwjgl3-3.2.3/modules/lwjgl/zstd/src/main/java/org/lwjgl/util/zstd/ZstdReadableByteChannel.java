@@ -0,0 +1,197 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * A {@link ReadableByteChannel} that reads a Zstandard stream from a source channel and decompresses it.
+ *
+ * <p>Data are decompressed directly into direct buffers, without intermediate copies. Heap buffers are filled from a staging buffer. Compressed data are
+ * read from the source into a direct buffer of {@link Zstd#ZSTD_DStreamInSize ZSTD_DStreamInSize} bytes. Streams that consist of multiple concatenated
+ * frames are decompressed as a single stream.</p>
+ *
+ * <p>The decompression context is acquired from a {@link ZstdContextPool} and returned to it when the channel is closed.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class ZstdReadableByteChannel implements ReadableByteChannel {
+
+    private final ReadableByteChannel source;
+
+    private final ZstdContextPool pool;
+
+    private long dctx;
+
+    private final ZSTDInBuffer  in;
+    private final ZSTDOutBuffer out;
+
+    private final ByteBuffer input;
+
+    @Nullable
+    private ByteBuffer staging;
+
+    /** The last value returned by {@code ZSTD_decompressStream}, 0 if a frame has been fully decoded. */
+    private long hint;
+
+    /** True if the last decompression filled the output buffer, in which case the context may still hold decoded data. */
+    private boolean pending;
+
+    private boolean eof;
+
+    /**
+     * Creates a new channel that uses the default context pool.
+     *
+     * @param source the channel to read the compressed stream from
+     */
+    public ZstdReadableByteChannel(ReadableByteChannel source) {
+        this(source, ZstdContextPool.getDefault());
+    }
+
+    /**
+     * Creates a new channel.
+     *
+     * @param source the channel to read the compressed stream from
+     * @param pool   the pool to acquire the decompression context from
+     */
+    public ZstdReadableByteChannel(ReadableByteChannel source, ZstdContextPool pool) {
+        this.source = source;
+        this.pool = pool;
+
+        dctx = pool.acquireDCtx();
+
+        ZSTDInBuffer  in  = null;
+        ZSTDOutBuffer out = null;
+        ByteBuffer    input;
+        try {
+            in = ZSTDInBuffer.calloc();
+            out = ZSTDOutBuffer.calloc();
+            input = memAlloc((int)ZSTD_DStreamInSize());
+        } catch (Throwable t) {
+            if (out != null) {
+                out.free();
+            }
+            if (in != null) {
+                in.free();
+            }
+            pool.releaseDCtx(dctx);
+            dctx = NULL;
+            throw t;
+        }
+
+        this.in = in;
+        this.out = out;
+        this.input = input;
+        in.src(input);
+        in.pos(input.capacity());
+    }
+
+    @Override
+    public boolean isOpen() {
+        return dctx != NULL;
+    }
+
+    /**
+     * Decompresses up to {@code dst.remaining()} bytes into {@code dst}.
+     *
+     * @return the number of bytes decompressed, possibly zero if the source channel is in non-blocking mode, or -1 if the end of the stream has been reached
+     *
+     * @throws IOException if the compressed stream is corrupted or truncated
+     */
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (dctx == NULL) {
+            throw new ClosedChannelException();
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+
+        if (dst.isDirect()) {
+            int size = decompress(memAddress(dst), dst.remaining());
+            if (0 < size) {
+                dst.position(dst.position() + size);
+            }
+            return size;
+        }
+
+        ByteBuffer staging = this.staging;
+        if (staging == null) {
+            staging = this.staging = memAlloc((int)ZSTD_DStreamOutSize());
+        }
+
+        int size = decompress(memAddress0(staging), Math.min(dst.remaining(), staging.capacity()));
+        if (0 < size) {
+            staging.clear().limit(size);
+            dst.put(staging);
+        }
+        return size;
+    }
+
+    private int decompress(long address, int size) throws IOException {
+        if (eof) {
+            return -1;
+        }
+
+        long inStruct  = in.address();
+        long outStruct = out.address();
+
+        memPutAddress(outStruct + ZSTDOutBuffer.DST, address);
+        ZSTDOutBuffer.nsize(outStruct, size);
+        ZSTDOutBuffer.npos(outStruct, 0L);
+
+        do {
+            if (ZSTDInBuffer.npos(inStruct) == ZSTDInBuffer.nsize(inStruct) && !pending) {
+                input.clear();
+                int bytes = source.read(input);
+                if (bytes == -1) {
+                    if (hint != 0L) {
+                        throw new IOException("Truncated Zstd stream");
+                    }
+                    eof = true;
+                    return -1;
+                }
+                if (bytes == 0) {
+                    return 0;
+                }
+
+                ZSTDInBuffer.nsize(inStruct, bytes);
+                ZSTDInBuffer.npos(inStruct, 0L);
+            }
+
+            hint = ZstdIOUtil.check(nZSTD_decompressStream(dctx, outStruct, inStruct));
+            pending = ZSTDOutBuffer.npos(outStruct) == size;
+        } while (ZSTDOutBuffer.npos(outStruct) == 0L);
+
+        return (int)ZSTDOutBuffer.npos(outStruct);
+    }
+
+    /** Closes this channel and the source channel. */
+    @Override
+    public void close() throws IOException {
+        if (dctx == NULL) {
+            return;
+        }
+
+        try {
+            pool.releaseDCtx(dctx);
+            dctx = NULL;
+
+            in.free();
+            out.free();
+            memFree(input);
+            memFree(staging);
+        } finally {
+            source.close();
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * A {@link WritableByteChannel} that compresses the bytes written to it and writes a Zstandard stream to a target channel.
+ *
+ * <p>Direct buffers are compressed in place, without intermediate copies. Heap buffers are copied to a staging buffer first. Compressed data are written to
+ * the target from a direct buffer of {@link Zstd#ZSTD_CStreamOutSize ZSTD_CStreamOutSize} bytes.</p>
+ *
+ * <p>The compression context is acquired from a {@link ZstdContextPool} and returned to it when the channel is closed. If {@code nbWorkers} is greater than
+ * zero, compression runs asynchronously on {@code nbWorkers} native threads, overlapping with the I/O performed by the calling thread.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class ZstdWritableByteChannel implements WritableByteChannel {
+
+    private final WritableByteChannel target;
+
+    private final ZstdContextPool pool;
+
+    private long cctx;
+
+    private final ZSTDInBuffer  in;
+    private final ZSTDOutBuffer out;
+
+    private final ByteBuffer output;
+
+    @Nullable
+    private ByteBuffer staging;
+
+    /**
+     * Creates a new channel with the default compression level, single-threaded compression and the default context pool.
+     *
+     * @param target the channel to write the compressed stream to
+     */
+    public ZstdWritableByteChannel(WritableByteChannel target) {
+        this(target, ZSTD_CLEVEL_DEFAULT, 0, ZstdContextPool.getDefault());
+    }
+
+    /**
+     * Creates a new channel.
+     *
+     * @param target    the channel to write the compressed stream to
+     * @param level     the compression level
+     * @param nbWorkers the number of compression threads, or 0 for single-threaded compression on the calling thread
+     * @param pool      the pool to acquire the compression context from
+     *
+     * @throws IllegalArgumentException if a compression parameter is not supported
+     */
+    public ZstdWritableByteChannel(WritableByteChannel target, int level, int nbWorkers, ZstdContextPool pool) {
+        this.target = target;
+        this.pool = pool;
+
+        cctx = pool.acquireCCtx();
+
+        ZSTDInBuffer  in  = null;
+        ZSTDOutBuffer out = null;
+        ByteBuffer    output;
+        try {
+            ZstdIOUtil.checkParameter(ZSTD_CCtx_setParameter(cctx, ZSTD_c_compressionLevel, level), "level", level);
+            if (nbWorkers != 0) {
+                ZstdIOUtil.checkParameter(ZSTD_CCtx_setParameter(cctx, ZSTD_c_nbWorkers, nbWorkers), "nbWorkers", nbWorkers);
+            }
+
+            in = ZSTDInBuffer.calloc();
+            out = ZSTDOutBuffer.calloc();
+            output = memAlloc((int)ZSTD_CStreamOutSize());
+        } catch (Throwable t) {
+            if (out != null) {
+                out.free();
+            }
+            if (in != null) {
+                in.free();
+            }
+            pool.releaseCCtx(cctx);
+            cctx = NULL;
+            throw t;
+        }
+
+        this.in = in;
+        this.out = out;
+        this.output = output;
+        out.dst(output);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return cctx != NULL;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (cctx == NULL) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    /**
+     * Compresses the remaining bytes of {@code src}.
+     *
+     * <p>All remaining bytes are consumed. Compressed data may be buffered internally until the channel is flushed or closed.</p>
+     *
+     * @return the number of bytes consumed
+     */
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        ensureOpen();
+
+        int size = src.remaining();
+        if (src.isDirect()) {
+            compress(memAddress(src), size, ZSTD_e_continue);
+            src.position(src.position() + size);
+        } else {
+            ByteBuffer staging = this.staging;
+            if (staging == null) {
+                staging = this.staging = memAlloc((int)ZSTD_CStreamInSize());
+            }
+
+            while (src.hasRemaining()) {
+                int length = Math.min(src.remaining(), staging.capacity());
+
+                int limit = src.limit();
+                src.limit(src.position() + length);
+                staging.clear();
+                staging.put(src);
+                src.limit(limit);
+
+                compress(memAddress0(staging), length, ZSTD_e_continue);
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Flushes the data buffered in the compression context to the target channel.
+     *
+     * <p>The data written so far can be decompressed after this method returns. Flushing frequently reduces the compression ratio.</p>
+     */
+    public void flush() throws IOException {
+        ensureOpen();
+        compress(NULL, 0L, ZSTD_e_flush);
+    }
+
+    /**
+     * Ends the current frame and flushes it to the target channel.
+     *
+     * <p>Subsequent writes start a new frame. The decompressing side, such as {@link ZstdReadableByteChannel}, decodes consecutive frames as a single stream.</p>
+     */
+    public void endFrame() throws IOException {
+        ensureOpen();
+        compress(NULL, 0L, ZSTD_e_end);
+    }
+
+    private void compress(long address, long size, int endOp) throws IOException {
+        long inStruct  = in.address();
+        long outStruct = out.address();
+
+        memPutAddress(inStruct + ZSTDInBuffer.SRC, address);
+        ZSTDInBuffer.nsize(inStruct, size);
+        ZSTDInBuffer.npos(inStruct, 0L);
+
+        boolean done;
+        do {
+            ZSTDOutBuffer.npos(outStruct, 0L);
+            long remaining = ZstdIOUtil.check(nZSTD_compressStream2(cctx, outStruct, inStruct, endOp));
+
+            output.clear().limit((int)ZSTDOutBuffer.npos(outStruct));
+            while (output.hasRemaining()) {
+                target.write(output);
+            }
+
+            done = endOp == ZSTD_e_continue
+                ? ZSTDInBuffer.npos(inStruct) == size
+                : remaining == 0L;
+        } while (!done);
+    }
+
+    /** Ends the current frame, flushes it to the target channel and closes the target channel. */
+    @Override
+    public void close() throws IOException {
+        if (cctx == NULL) {
+            return;
+        }
+
+        try {
+            compress(NULL, 0L, ZSTD_e_end);
+        } finally {
+            pool.releaseCCtx(cctx);
+            cctx = NULL;
+
+            in.free();
+            out.free();
+            memFree(output);
+            memFree(staging);
+
+            target.close();
+        }
+    }
+
+}
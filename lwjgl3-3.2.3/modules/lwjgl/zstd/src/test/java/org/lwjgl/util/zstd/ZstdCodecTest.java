@@ -0,0 +1,50 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import org.lwjgl.system.*;
+import org.lwjgl.system.CodecCalibrator.*;
+import org.testng.annotations.*;
+
+import java.nio.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+import static org.testng.Assert.*;
+
+@Test
+public class ZstdCodecTest extends CodecTest {
+
+    @Override
+    protected Codec createCodec() {
+        return new ZstdCodec();
+    }
+
+    @Override
+    protected void checkRecommendation(Result best) {
+        assertTrue(ZSTD_CLEVEL_DEFAULT <= best.getLevel(), best.toString());
+    }
+
+    public void testFrame() {
+        ByteBuffer data = createData(100_000);
+        try (ZstdCodec codec = new ZstdCodec()) {
+            ByteBuffer compressed = memAlloc((int)codec.compressBound(data.remaining()));
+            try {
+                compressed.limit((int)codec.compress(data, compressed, codec.getDefaultLevel()));
+                assertEquals(compressed.order(ByteOrder.LITTLE_ENDIAN).getInt(0), ZSTD_MAGICNUMBER);
+                // the content size is stored in the frame header
+                assertEquals(ZSTD_getFrameContentSize(compressed), data.remaining());
+            } finally {
+                memFree(compressed);
+            }
+
+            expectThrows(IllegalArgumentException.class, () -> codec.mapLevel(Codec.LEVEL_BEST + 1));
+            assertEquals(codec.mapLevel(Codec.LEVEL_BEST), 19);
+        } finally {
+            memFree(data);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+
+import static org.lwjgl.system.CodecTestData.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+import static org.testng.Assert.*;
+
+@Test
+public class ZstdDictionaryTest {
+
+    private static ByteBuffer createMessage(Random random) {
+        return memASCII(createEvent(random), false);
+    }
+
+    private static ZstdDictionaryService createTrainedService(Random random) {
+        ZstdDictionaryService service = new ZstdDictionaryService(ZSTD_CLEVEL_DEFAULT, 4 * 1024, 1000, 4 * 1024, 2, ZstdContextPool.getDefault());
+        for (int i = 0; i < 5000; i++) {
+            ByteBuffer message = createMessage(random);
+            service.sample(message);
+            memFree(message);
+        }
+        return service;
+    }
+
+    public void testRoundTrip() {
+        Random random = new Random(1234L);
+
+        try (ZstdDictionaryService service = createTrainedService(random)) {
+            assertEquals(service.getSampleCount(), 1000);
+
+            ByteBuffer message = createMessage(random);
+            ByteBuffer dst     = memAlloc((int)ZSTD_COMPRESSBOUND(message.remaining()));
+            ByteBuffer out     = memAlloc(message.remaining());
+            try {
+                long plainSize = service.compress(dst, message);
+
+                ZstdDictionary dict = service.train();
+                assertNotNull(dict);
+                assertNotEquals(dict.getID(), 0);
+                assertSame(service.getCurrent(), dict);
+                assertSame(service.getDictionary(dict.getID()), dict);
+                assertEquals(service.getSampleCount(), 0);
+
+                long size = service.compress(dst, message);
+                assertTrue(size < plainSize, size + " >= " + plainSize);
+
+                dst.limit((int)size);
+                assertEquals(ZSTD_getDictID_fromFrame(dst), dict.getID());
+
+                assertEquals(service.decompress(out, dst), message.remaining());
+                assertEquals(out, message);
+            } finally {
+                memFree(out);
+                memFree(dst);
+                memFree(message);
+            }
+        }
+    }
+
+    public void testVersions() {
+        Random random = new Random(1234L);
+
+        try (ZstdDictionaryService service = createTrainedService(random)) {
+            ZstdDictionary first = service.train();
+            assertNotNull(first);
+
+            ByteBuffer message = createMessage(random);
+            ByteBuffer dst     = memAlloc((int)ZSTD_COMPRESSBOUND(message.remaining()));
+            ByteBuffer out     = memAlloc(message.remaining());
+            try {
+                dst.limit((int)service.compress(dst, message));
+
+                // the receiver only has the persisted dictionary
+                try (ZstdDictionaryService receiver = new ZstdDictionaryService(ZSTD_CLEVEL_DEFAULT)) {
+                    expectThrows(IllegalStateException.class, () -> receiver.decompress(out, dst));
+
+                    ByteBuffer content = first.getContent();
+                    assertFalse(content.isDirect());
+                    assertEquals(content.remaining(), first.getSize());
+
+                    receiver.register(content);
+                    assertEquals(receiver.decompress(out, dst), message.remaining());
+                    assertEquals(out, message);
+                }
+            } finally {
+                memFree(out);
+                memFree(dst);
+                memFree(message);
+            }
+        }
+    }
+
+    public void testEviction() {
+        Random random = new Random(1234L);
+
+        try (ZstdDictionaryService service = createTrainedService(random)) {
+            List<ZstdDictionary> dicts = new ArrayList<>();
+            List<Integer>        ids   = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                for (int j = 0; j < 1000; j++) {
+                    ByteBuffer message = createMessage(random);
+                    service.sample(message);
+                    memFree(message);
+                }
+
+                ZstdDictionary dict = service.train();
+                assertNotNull(dict);
+                dicts.add(dict);
+                ids.add(dict.getID());
+            }
+
+            // the capacity is 2
+            assertNull(service.getDictionary(ids.get(0)));
+            assertTrue(Arrays.equals(service.getDictionaryIDs(), new int[] {ids.get(1), ids.get(2)}));
+
+            // the evicted dictionary has been freed
+            expectThrows(IllegalStateException.class, dicts.get(0)::getContent);
+            expectThrows(IllegalStateException.class, dicts.get(0)::getDigestedSize);
+            assertTrue(0L < dicts.get(2).getDigestedSize());
+        }
+    }
+
+    public void testNotEnoughSamples() {
+        try (ZstdDictionaryService service = new ZstdDictionaryService(ZSTD_CLEVEL_DEFAULT)) {
+            assertNull(service.train());
+            assertNull(service.getCurrent());
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.util.zstd;
+
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import static org.lwjgl.system.CodecTestData.*;
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+import static org.testng.Assert.*;
+
+@Test
+public class ZstdStreamTest {
+
+    private static byte[] compress(byte[] data, int nbWorkers) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZstdOutputStream out = new ZstdOutputStream(bytes, ZSTD_CLEVEL_DEFAULT, nbWorkers, ZstdContextPool.getDefault())) {
+            // odd chunk sizes
+            for (int i = 0; i < data.length; i += 10000) {
+                out.write(data, i, Math.min(10000, data.length - i));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed, int size) throws IOException {
+        byte[] data = new byte[size];
+        try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(compressed))) {
+            int offset = 0;
+            int bytes;
+            while ((bytes = in.read(data, offset, Math.min(7777, size - offset))) > 0) {
+                offset += bytes;
+            }
+            assertEquals(offset, size);
+            assertEquals(in.read(), -1);
+        }
+        return data;
+    }
+
+    public void testStreams() throws IOException {
+        byte[] data = createData(1024 * 1024 + 17);
+
+        byte[] compressed = compress(data, 0);
+        assertTrue(compressed.length < data.length);
+
+        assertEquals(decompress(compressed, data.length), data);
+    }
+
+    public void testMultiThreaded() throws IOException {
+        byte[] data = createData(4 * 1024 * 1024);
+
+        byte[] compressed;
+        try {
+            compressed = compress(data, 2);
+        } catch (IllegalArgumentException e) {
+            // built without ZSTD_MULTITHREAD
+            return;
+        }
+
+        assertEquals(decompress(compressed, data.length), data);
+    }
+
+    public void testDirectChannels() throws IOException {
+        byte[] data = createData(256 * 1024);
+
+        ByteBuffer src = memAlloc(data.length);
+        ByteBuffer dst = memAlloc(data.length);
+        try {
+            src.put(data).flip();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ZstdWritableByteChannel channel = new ZstdWritableByteChannel(Channels.newChannel(bytes))) {
+                assertEquals(channel.write(src), data.length);
+                assertFalse(src.hasRemaining());
+
+                // a second frame
+                channel.endFrame();
+                src.flip();
+                channel.write(src);
+            }
+
+            try (ZstdReadableByteChannel channel = new ZstdReadableByteChannel(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())))) {
+                for (int i = 0; i < 2; i++) {
+                    dst.clear();
+                    while (dst.hasRemaining()) {
+                        assertTrue(0 < channel.read(dst));
+                    }
+                    dst.flip();
+                    src.rewind();
+                    assertEquals(dst, src);
+                }
+                dst.clear();
+                assertEquals(channel.read(dst), -1);
+            }
+        } finally {
+            memFree(dst);
+            memFree(src);
+        }
+    }
+
+    public void testTruncated() throws IOException {
+        byte[] compressed = compress(createData(64 * 1024), 0);
+
+        expectThrows(IOException.class, () -> decompress(Arrays.copyOf(compressed, compressed.length / 2), 64 * 1024));
+    }
+
+    public void testPool() {
+        try (ZstdContextPool pool = new ZstdContextPool(1)) {
+            long cctx = pool.acquireCCtx();
+            pool.releaseCCtx(cctx);
+            assertEquals(pool.acquireCCtx(), cctx);
+
+            // the pool is full, the second context is freed
+            long other = pool.acquireCCtx();
+            pool.releaseCCtx(cctx);
+            pool.releaseCCtx(other);
+            assertEquals(pool.acquireCCtx(), cctx);
+            pool.releaseCCtx(cctx);
+        }
+    }
+
+}
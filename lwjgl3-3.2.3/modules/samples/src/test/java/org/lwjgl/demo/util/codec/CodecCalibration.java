@@ -0,0 +1,78 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.demo.util.codec;
+
+import org.lwjgl.system.*;
+import org.lwjgl.util.lz4.*;
+import org.lwjgl.util.zstd.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static org.lwjgl.demo.util.IOUtil.*;
+
+/**
+ * Measures the LZ4 and Zstandard codecs on the files of a directory and recommends a codec and level per file extension.
+ *
+ * <p>Usage: {@code ant demo -Dclass=org.lwjgl.demo.util.codec.CodecCalibration -Dargs="<directory> [<min compression MB/s> [<min decompression MB/s>]]"}</p>
+ */
+public final class CodecCalibration {
+
+    private CodecCalibration() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory;
+        if (args.length == 0) {
+            System.out.println("Use 'ant demo -Dclass=org.lwjgl.demo.util.codec.CodecCalibration -Dargs=<directory>' to calibrate on a different directory.\n");
+            directory = Paths.get("demo");
+        } else {
+            directory = Paths.get(args[0]);
+        }
+
+        double minCompressionSpeed   = 1 < args.length ? Double.parseDouble(args[1]) : 50.0;
+        double minDecompressionSpeed = 2 < args.length ? Double.parseDouble(args[2]) : 500.0;
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            files = stream
+                .filter(Files::isRegularFile)
+                .collect(Collectors.toList());
+        }
+
+        try (
+            LZ4Codec lz4 = new LZ4Codec();
+            ZstdCodec zstd = new ZstdCodec();
+            CodecCalibrator calibrator = new CodecCalibrator()
+        ) {
+            calibrator
+                .addCodec(lz4)
+                .addCodec(zstd);
+
+            for (Path file : files) {
+                String name      = file.getFileName().toString();
+                int    extension = name.lastIndexOf('.');
+
+                ByteBuffer sample = ioResourceToByteBuffer(file.toString(), 64 * 1024);
+                calibrator.addSample(extension == -1 ? "(none)" : name.substring(extension + 1).toLowerCase(), sample);
+            }
+
+            System.out.format("Minimum speeds: compression %.1f MB/s, decompression %.1f MB/s\n", minCompressionSpeed, minDecompressionSpeed);
+            for (String dataClass : calibrator.getDataClasses()) {
+                System.out.format("\n%s\n", dataClass);
+
+                List<CodecCalibrator.Result> results = calibrator.measure(dataClass);
+                for (CodecCalibrator.Result result : results) {
+                    System.out.format("\t%s\n", result);
+                }
+                System.out.format("\tRecommended: %s\n", CodecCalibrator.recommend(results, minCompressionSpeed, minDecompressionSpeed));
+            }
+        }
+    }
+
+}
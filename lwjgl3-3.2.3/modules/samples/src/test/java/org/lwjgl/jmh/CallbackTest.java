@@ -0,0 +1,146 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.system.*;
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.dyncall.DynCallback.*;
+
+/**
+ * Measures Java upcalls through dynamically created native functions.
+ *
+ * <p>The {@code generic} callbacks decode their arguments from a {@code DCArgs} iterator, with one JNI downcall per argument. The {@code fast} callbacks
+ * implement the signature-specialized {@link CallbackI} interfaces and receive their arguments directly.</p>
+ *
+ * <p>{@code createFree} measures the cost of creating and freeing a callback, which reuses pooled {@code DCCallback} objects.</p>
+ */
+@State(Scope.Benchmark)
+public class CallbackTest {
+
+    private long genericPP_P;
+    private long fastPP_P;
+
+    private long genericPP_I;
+    private long fastPP_I;
+
+    private long genericPI_V;
+    private long fastPI_V;
+
+    private long sink;
+
+    private final CallbackI.I_PP comparator = new CallbackI.I_PP() {
+        @Override
+        public String getSignature() { return "(pp)i"; }
+
+        @Override
+        public int callback(long a, long b) {
+            return Long.compare(a, b);
+        }
+    };
+
+    @Setup
+    public void setup() {
+        genericPP_P = new CallbackI.P() {
+            @Override
+            public String getSignature() { return "(pp)p"; }
+
+            @Override
+            public long callback(long args) {
+                return dcbArgPointer(args) + dcbArgPointer(args);
+            }
+        }.address();
+        fastPP_P = new CallbackI.P_PP() {
+            @Override
+            public String getSignature() { return "(pp)p"; }
+
+            @Override
+            public long callback(long a, long b) {
+                return a + b;
+            }
+        }.address();
+
+        genericPP_I = new CallbackI.I() {
+            @Override
+            public String getSignature() { return "(pp)i"; }
+
+            @Override
+            public int callback(long args) {
+                return Long.compare(dcbArgPointer(args), dcbArgPointer(args));
+            }
+        }.address();
+        fastPP_I = comparator.address();
+
+        genericPI_V = new CallbackI.V() {
+            @Override
+            public String getSignature() { return "(pi)v"; }
+
+            @Override
+            public void callback(long args) {
+                sink = dcbArgPointer(args) + dcbArgInt(args);
+            }
+        }.address();
+        fastPI_V = new CallbackI.V_PI() {
+            @Override
+            public String getSignature() { return "(pi)v"; }
+
+            @Override
+            public void callback(long a, int b) {
+                sink = a + b;
+            }
+        }.address();
+    }
+
+    @TearDown
+    public void teardown() {
+        Callback.free(genericPP_P);
+        Callback.free(fastPP_P);
+        Callback.free(genericPP_I);
+        Callback.free(fastPP_I);
+        Callback.free(genericPI_V);
+        Callback.free(fastPI_V);
+    }
+
+    @Benchmark
+    public long upcallPP_P_generic() {
+        return invokePPP(1L, 2L, genericPP_P);
+    }
+
+    @Benchmark
+    public long upcallPP_P_fast() {
+        return invokePPP(1L, 2L, fastPP_P);
+    }
+
+    @Benchmark
+    public int upcallPP_I_generic() {
+        return invokePPI(1L, 2L, genericPP_I);
+    }
+
+    @Benchmark
+    public int upcallPP_I_fast() {
+        return invokePPI(1L, 2L, fastPP_I);
+    }
+
+    @Benchmark
+    public long upcallPI_V_generic() {
+        invokePV(1L, 2, genericPI_V);
+        return sink;
+    }
+
+    @Benchmark
+    public long upcallPI_V_fast() {
+        invokePV(1L, 2, fastPI_V);
+        return sink;
+    }
+
+    @Benchmark
+    public long createFree() {
+        long callback = comparator.address();
+        Callback.free(callback);
+        return callback;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.system.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Compares blocking {@link FileChannel} reads with {@link AsyncFileIO}, reading files to native memory.
+ *
+ * <p>The {@code small} workload reads 2000 files of 4KB each, the {@code huge} workload reads 4 files of 64MB each. Files are read from the page cache after
+ * the first iteration, so the benchmark measures the I/O overhead, not the storage device.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileIOTest {
+
+    @Param({"small", "huge"})
+    public String workload;
+
+    @Param({"4"})
+    public int threads;
+
+    private Path directory;
+
+    private List<Path> paths;
+
+    private AsyncFileIO io;
+
+    @Setup
+    public void setup() throws IOException {
+        int count, size;
+        if ("small".equals(workload)) {
+            count = 2000;
+            size = 4 * 1024;
+        } else {
+            count = 4;
+            size = 64 * 1024 * 1024;
+        }
+
+        byte[] data = new byte[size];
+        new Random(1234L).nextBytes(data);
+
+        directory = Files.createTempDirectory("lwjgl-jmh");
+        paths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Path path = directory.resolve("file" + i + ".bin");
+            Files.write(path, data);
+            paths.add(path);
+        }
+
+        io = new AsyncFileIO(threads);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        io.close();
+
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void blocking(Blackhole bh) throws IOException {
+        for (Path path : paths) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer buffer = memAlloc((int)channel.size());
+                while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                    // keep reading
+                }
+                bh.consume(buffer.get(0));
+                memFree(buffer);
+            }
+        }
+    }
+
+    @Benchmark
+    public void async(Blackhole bh) {
+        for (CompletableFuture<ByteBuffer> future : io.read(paths)) {
+            ByteBuffer buffer = future.join();
+            bh.consume(buffer.get(0));
+            memFree(buffer);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.opengl.*;
+import org.lwjgl.system.*;
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Measures the latency of {@link GL#createCapabilities}, with and without {@link Configuration#OPENGL_SUPPORTED_FUNCTIONS_ONLY}.
+ *
+ * <p>The {@code compatibility} and {@code core} parameters select the context profile. Core profile contexts usually report fewer extensions, so fewer
+ * function addresses are retrieved when only supported functions are resolved.</p>
+ */
+@State(Scope.Benchmark)
+public class GLCapabilitiesTest {
+
+    @Param({"false", "true"})
+    public boolean supportedOnly;
+
+    @Param({"compatibility", "core"})
+    public String profile;
+
+    private long window;
+
+    @Setup
+    public void init() {
+        Configuration.OPENGL_SUPPORTED_FUNCTIONS_ONLY.set(supportedOnly);
+
+        glfwInit();
+
+        glfwDefaultWindowHints();
+        glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
+        if ("core".equals(profile)) {
+            glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 3);
+            glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 2);
+            glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_CORE_PROFILE);
+            glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GLFW_TRUE);
+        }
+
+        window = glfwCreateWindow(1, 1, "GLCapabilities Benchmark", NULL, NULL);
+        if (window == NULL) {
+            throw new RuntimeException("Failed to create the GLFW window");
+        }
+
+        glfwMakeContextCurrent(window);
+    }
+
+    @TearDown
+    public void destroy() {
+        GL.setCapabilities(null);
+        glfwDestroyWindow(window);
+        glfwTerminate();
+
+        Configuration.OPENGL_SUPPORTED_FUNCTIONS_ONLY.set(null);
+    }
+
+    @Benchmark
+    public GLCapabilities createCapabilities() {
+        return GL.createCapabilities();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.glfw.*;
+import org.lwjgl.opengl.*;
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.opengl.GL20C.*;
+import static org.lwjgl.system.JNI.*;
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Compares the JNI and FFM backends of the {@link org.lwjgl.system.JNI} class. Requires Java 22 or higher and an LWJGL build with {@code LWJGL_BUILD_FFM}.
+ *
+ * <p>The {@code binding} benchmarks call the GL20C method, which has a custom JNI function in the OpenGL module and is not affected by the backend. The
+ * other benchmarks call the same function via the {@code JNI} class. Neither function is in the critical function list, so
+ * {@code org.lwjgl.system.jni.ffm.critical} does not affect these benchmarks.</p>
+ */
+@State(Scope.Benchmark)
+public class JNIBackendTest {
+
+    private static final String FFM    = "-Dorg.lwjgl.system.jni.ffm=true";
+    private static final String ACCESS = "--enable-native-access=ALL-UNNAMED";
+
+    private long window;
+
+    private int program;
+    private int location;
+
+    private long glUniform4f;
+    private long glfwGetTime;
+
+    @Setup
+    public void init() {
+        glfwInit();
+
+        glfwDefaultWindowHints();
+        glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
+
+        window = glfwCreateWindow(1, 1, "JNI Backend Benchmark", NULL, NULL);
+        if (window == NULL) {
+            throw new RuntimeException("Failed to create the GLFW window");
+        }
+
+        glfwMakeContextCurrent(window);
+        GLCapabilities caps = GL.createCapabilities();
+
+        int shader = glCreateShader(GL_VERTEX_SHADER);
+        glShaderSource(shader, "uniform vec4 u; void main() { gl_Position = u; }");
+        glCompileShader(shader);
+
+        program = glCreateProgram();
+        glAttachShader(program, shader);
+        glLinkProgram(program);
+        glDeleteShader(shader);
+        if (glGetProgrami(program, GL_LINK_STATUS) != GL_TRUE) {
+            throw new RuntimeException(glGetProgramInfoLog(program));
+        }
+
+        glUseProgram(program);
+        location = glGetUniformLocation(program, "u");
+
+        glUniform4f = caps.glUniform4f;
+        glfwGetTime = GLFW.Functions.GetTime;
+    }
+
+    @TearDown
+    public void destroy() {
+        glUseProgram(0);
+        glDeleteProgram(program);
+
+        GL.setCapabilities(null);
+        glfwDestroyWindow(window);
+        glfwTerminate();
+    }
+
+    @Benchmark
+    public void glUniform4f_binding() {
+        glUniform4f(location, 1.0f, 2.0f, 3.0f, 4.0f);
+    }
+
+    @Benchmark
+    public void glUniform4f_JNI() {
+        callV(location, 1.0f, 2.0f, 3.0f, 4.0f, glUniform4f);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {FFM, ACCESS})
+    public void glUniform4f_FFM() {
+        callV(location, 1.0f, 2.0f, 3.0f, 4.0f, glUniform4f);
+    }
+
+    @Benchmark
+    public double glfwGetTime_JNI() {
+        return invokeD(glfwGetTime);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {FFM, ACCESS})
+    public double glfwGetTime_FFM() {
+        return invokeD(glfwGetTime);
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.util.lz4.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4.*;
+import static org.lwjgl.util.lz4.LZ4HC.*;
+
+/**
+ * Compares the compression of a stream of small JSON messages with {@link LZ4MessageEncoder}/{@link LZ4MessageDecoder} to independent per-message
+ * compression with {@link LZ4#LZ4_compress_fast LZ4_compress_fast} or {@link LZ4HC#LZ4_compress_HC LZ4_compress_HC}.
+ *
+ * <p>The benchmarks measure the throughput of compressing and decompressing a batch of messages. The compression ratio of each configuration is
+ * reported as the {@code compressionRatio} secondary result.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LZ4MessageStreamTest {
+
+    private static final int MESSAGES = 1024;
+
+    private static final String[] NAMES  = {"alice", "bob", "carol", "dave", "eve", "mallory", "trent", "victor"};
+    private static final String[] EVENTS = {"login", "logout", "purchase", "refund", "view", "search", "share"};
+
+    /** The approximate message size. */
+    @Param({"200", "1000", "4000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean stream;
+
+    @Param({"0", "9"})
+    public int level;
+
+    private int maxMessageSize;
+
+    private LZ4MessageEncoder encoder;
+    private LZ4MessageDecoder decoder;
+
+    private ByteBuffer[] messages;
+
+    /** The encoded messages, back-to-back. */
+    private ByteBuffer encoded;
+    /** The size of each encoded message, when compressed independently. */
+    private int[]      encodedSizes;
+
+    private ByteBuffer dst;
+
+    private double compressionRatio;
+
+    /** Reports the compression ratio of the benchmark configuration as a secondary result. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Metrics {
+
+        public double compressionRatio;
+
+        @Setup(Level.Iteration)
+        public void setup(LZ4MessageStreamTest test) {
+            compressionRatio = test.compressionRatio;
+        }
+
+    }
+
+    private static String createMessage(Random random, int size) {
+        StringBuilder sb = new StringBuilder(size + 128);
+        sb.append("{\"id\":").append(random.nextInt(1_000_000)).append(",\"items\":[");
+        while (sb.length() < size) {
+            sb.append(String.format(
+                "{\"user\":\"%s\",\"event\":\"%s\",\"timestamp\":%d,\"amount\":%d.%02d},",
+                NAMES[random.nextInt(NAMES.length)], EVENTS[random.nextInt(EVENTS.length)], 1600000000L + random.nextInt(1000000),
+                random.nextInt(1000), random.nextInt(100)
+            ));
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.append("]}").toString();
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1234L);
+
+        messages = new ByteBuffer[MESSAGES];
+
+        long uncompressedSize = 0L;
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = memASCII(createMessage(random, size), false);
+            maxMessageSize = Math.max(maxMessageSize, messages[i].remaining());
+            uncompressedSize += messages[i].remaining();
+        }
+
+        encoder = new LZ4MessageEncoder(maxMessageSize, level);
+        decoder = new LZ4MessageDecoder(maxMessageSize);
+
+        encoded = memAlloc(MESSAGES * LZ4MessageEncoder.getMaxEncodedSize(maxMessageSize));
+        encodedSizes = new int[MESSAGES];
+        dst = memAlloc(MESSAGES * LZ4MessageEncoder.getMaxEncodedSize(maxMessageSize));
+
+        compress();
+        long compressedSize = encoded.position();
+        encoded.flip();
+
+        compressionRatio = uncompressedSize / (double)compressedSize;
+    }
+
+    @TearDown
+    public void teardown() {
+        memFree(dst);
+        memFree(encoded);
+        decoder.close();
+        encoder.close();
+        for (ByteBuffer message : messages) {
+            memFree(message);
+        }
+    }
+
+    private void compress() {
+        if (stream) {
+            encoder.reset(null);
+            encoded.clear();
+            if (encoder.encode(messages, encoded) != MESSAGES) {
+                throw new IllegalStateException();
+            }
+        } else {
+            long address = memAddress(encoded);
+            int  offset  = 0;
+            for (int i = 0; i < MESSAGES; i++) {
+                ByteBuffer message = messages[i];
+
+                int bound = LZ4_compressBound(message.remaining());
+                encodedSizes[i] = LZ4HC_CLEVEL_MIN <= level
+                    ? nLZ4_compress_HC(memAddress(message), address + offset, message.remaining(), bound, level)
+                    : nLZ4_compress_fast(memAddress(message), address + offset, message.remaining(), bound, 1);
+                offset += encodedSizes[i];
+            }
+            encoded.position(offset);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int compressBatch(Metrics metrics) {
+        if (stream) {
+            encoder.reset(null);
+            dst.clear();
+            return encoder.encode(messages, dst);
+        }
+
+        long address = memAddress(dst);
+        int  offset  = 0;
+        for (ByteBuffer message : messages) {
+            int bound = LZ4_compressBound(message.remaining());
+            offset += LZ4HC_CLEVEL_MIN <= level
+                ? nLZ4_compress_HC(memAddress(message), address + offset, message.remaining(), bound, level)
+                : nLZ4_compress_fast(memAddress(message), address + offset, message.remaining(), bound, 1);
+        }
+        return offset;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public int decompressBatch(Metrics metrics) {
+        if (stream) {
+            decoder.reset(null);
+            dst.clear();
+
+            ByteBuffer src = encoded.duplicate();
+
+            int total = 0;
+            for (int i = 0; i < MESSAGES; i++) {
+                total += decoder.decode(src, dst);
+            }
+            return total;
+        }
+
+        long src     = memAddress(encoded);
+        long address = memAddress(dst);
+
+        int total = 0;
+        for (int i = 0; i < MESSAGES; i++) {
+            total += nLZ4_decompress_safe(src, address + total, encodedSizes[i], maxMessageSize);
+            src += encodedSizes[i];
+        }
+        return total;
+    }
+
+}
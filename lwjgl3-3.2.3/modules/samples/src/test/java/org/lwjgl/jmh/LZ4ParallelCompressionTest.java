@@ -0,0 +1,138 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.util.lz4.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.lz4.LZ4Frame.*;
+
+/**
+ * Compares single-threaded {@link LZ4Frame#LZ4F_compressFrame LZ4F_compressFrame} with {@link LZ4ParallelCompressor}. Also measures 64KB random reads
+ * through {@link LZ4SeekableReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LZ4ParallelCompressionTest {
+
+    private static final int SIZE = 256 * 1024 * 1024;
+
+    @Param({"1", "9"})
+    public int level;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ByteBuffer src;
+    private ByteBuffer dst;
+
+    private ForkJoinPool pool;
+
+    private LZ4ParallelCompressor compressor;
+
+    private File              file;
+    private LZ4SeekableReader reader;
+
+    private ByteBuffer range;
+
+    private Random random;
+
+    @Setup
+    public void setup() throws IOException {
+        src = memAlloc(SIZE);
+
+        // compressible, but not trivially
+        Random data = new Random(1234L);
+        for (int i = 0; i < SIZE; i++) {
+            src.put(i, (byte)('a' + data.nextInt(16)));
+        }
+
+        try (LZ4FPreferences prefs = LZ4FPreferences.calloc()) {
+            prefs
+                .frameInfo(it -> it.blockSizeID(LZ4F_max4MB))
+                .compressionLevel(level);
+            dst = memAlloc((int)LZ4F_compressFrameBound(SIZE, prefs));
+        }
+
+        pool = new ForkJoinPool(threads);
+        compressor = new LZ4ParallelCompressor(LZ4F_max4MB, level, false, pool);
+
+        file = File.createTempFile("lwjgl", ".lz4");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            compressor.compress(src, out.getChannel());
+        }
+        reader = LZ4SeekableReader.open(file.toPath());
+
+        range = memAlloc(64 * 1024);
+        random = new Random(5678L);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        memFree(range);
+        reader.close();
+        file.delete();
+        compressor.close();
+        pool.shutdown();
+        memFree(dst);
+        memFree(src);
+    }
+
+    @Benchmark
+    public long compressFrame() {
+        try (LZ4FPreferences prefs = LZ4FPreferences.calloc()) {
+            prefs
+                .frameInfo(it -> it.blockSizeID(LZ4F_max4MB))
+                .compressionLevel(level);
+            return LZ4F_compressFrame(dst, src, prefs);
+        }
+    }
+
+    @Benchmark
+    public long compressParallel() throws IOException {
+        dst.clear();
+        return compressor.compress(src, new BufferChannel(dst));
+    }
+
+    @Benchmark
+    public int readRange() throws IOException {
+        range.clear();
+        return reader.read(random.nextInt(SIZE - range.capacity()), range);
+    }
+
+    /** Collects the compressed frame in memory, so that file I/O is not measured. */
+    private static final class BufferChannel implements WritableByteChannel {
+
+        private final ByteBuffer buffer;
+
+        BufferChannel(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int bytes = src.remaining();
+            if (buffer.remaining() < bytes) {
+                // the seek table does not fit in the frame bound, wrap around
+                buffer.clear();
+            }
+            buffer.put(src);
+            return bytes;
+        }
+
+        @Override public boolean isOpen() { return true; }
+        @Override public void close() {}
+
+    }
+
+}
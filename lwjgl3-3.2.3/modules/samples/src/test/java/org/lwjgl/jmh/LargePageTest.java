@@ -0,0 +1,94 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Measures random reads over a large off-heap block, allocated with and without {@link org.lwjgl.system.MemoryUtil#MEM_HUGE_PAGES MEM_HUGE_PAGES}.
+ *
+ * <p>Random accesses over a multi-GB block miss the TLB on almost every access with 4KB pages. Huge pages reduce the number of TLB entries required by
+ * orders of magnitude. Run with {@code -prof perfnorm} to observe the difference in {@code dTLB-load-misses}. The number of bytes that actually landed
+ * on huge pages is reported as the {@code hugePageBytes} secondary result.</p>
+ */
+@State(Scope.Benchmark)
+public class LargePageTest {
+
+    private static final int READS = 1024;
+
+    @Param({"1024"})
+    public int sizeMB;
+
+    @Param({"false", "true"})
+    public boolean hugePages;
+
+    private long address;
+    private long mask;
+
+    private long seed = 0x2545F4914F6CDD1DL;
+
+    private long hugePageBytes;
+
+    /** Reports the number of bytes backed by huge pages as a secondary result. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Metrics {
+
+        public long hugePageBytes;
+
+        @Setup(Level.Iteration)
+        public void setup(LargePageTest test) {
+            hugePageBytes = test.hugePageBytes;
+        }
+
+    }
+
+    @Setup
+    public void setup() {
+        long size = (long)sizeMB * 1024L * 1024L;
+        if (Long.bitCount(size) != 1) {
+            throw new IllegalArgumentException("sizeMB must be a power of two");
+        }
+
+        address = nmemAllocLarge(size, (hugePages ? MEM_HUGE_PAGES : 0) | MEM_PREFAULT, MEM_NUMA_NODE_ANY);
+        if (address == NULL) {
+            throw new OutOfMemoryError();
+        }
+        mask = (size - 1L) & ~7L;
+
+        for (long i = 0; i < size; i += 8) {
+            memPutLong(address + i, i);
+        }
+
+        hugePageBytes = memHugePageBytes(address, size);
+    }
+
+    @TearDown
+    public void teardown() {
+        nmemFreeLarge(address);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(READS)
+    public long randomReads(Metrics metrics) {
+        long x = seed;
+
+        long sum = 0L;
+        for (int i = 0; i < READS; i++) {
+            // xorshift64
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+
+            sum += memGetLong(address + (x & mask));
+        }
+
+        seed = x;
+        return sum;
+    }
+
+}
@@ -21,6 +21,9 @@ import static org.lwjgl.system.rpmalloc.RPmalloc.*;
 @State(Scope.Thread)
 public class MallocTest {
 
+    /** Selects the slab allocator for memAlloc & co, in the forked JVM of t50-t52 only. */
+    private static final String SLAB = "-Dorg.lwjgl.system.allocator=slab";
+
     static {
         rpmalloc_initialize();
     }
@@ -142,4 +145,28 @@ public class MallocTest {
         }
     }
 
+    @Benchmark
+    @Fork(jvmArgsAppend = {SLAB})
+    public void t50_slab_malloc(Blackhole bh) {
+        ByteBuffer mem = memAlloc(size);
+        consume(bh, mem);
+        memFree(mem);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {SLAB})
+    public void t51_slab_calloc(Blackhole bh) {
+        ByteBuffer mem = memCalloc(1, size);
+        consume(bh, mem);
+        memFree(mem);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {SLAB})
+    public void t52_slab_aligned_alloc(Blackhole bh) {
+        ByteBuffer mem = memAlignedAlloc(alignment, size);
+        consume(bh, mem);
+        memAlignedFree(mem);
+    }
+
 }
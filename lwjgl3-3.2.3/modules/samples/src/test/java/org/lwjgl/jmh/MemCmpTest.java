@@ -0,0 +1,44 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import sun.misc.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+@State(Scope.Benchmark)
+public class MemCmpTest {
+
+    private static final Unsafe UNSAFE = Bench.getUnsafeInstance();
+
+    private static final int BUFFER_SIZE = 128 * 1024;
+
+    private static final long f = nmemCalloc(1, BUFFER_SIZE);
+    private static final long t = nmemCalloc(1, BUFFER_SIZE);
+
+    @Param({"32", "64", "128", "256", "384", "512", "1024", "4096", "65536"})
+    public int length;
+
+    @Benchmark
+    public long offheap_LWJGL() {
+        return memMismatch(f, t, length);
+    }
+
+    @Benchmark
+    public long offheap_java() {
+        return memMismatchLoop(f, t, length);
+    }
+
+    private static long memMismatchLoop(long a, long b, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            if (UNSAFE.getByte(null, a + i) != UNSAFE.getByte(null, b + i)) {
+                return i;
+            }
+        }
+        return -1L;
+    }
+
+}
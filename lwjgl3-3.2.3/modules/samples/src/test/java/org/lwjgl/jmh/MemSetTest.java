@@ -24,7 +24,7 @@ public class MemSetTest {
 
     private static final byte[] a = new byte[BUFFER_SIZE];
 
-    @Param({"32", "256", "1024"})
+    @Param({"32", "64", "128", "256", "384", "512", "1024", "4096", "65536"})
     public int length;
 
     @Benchmark
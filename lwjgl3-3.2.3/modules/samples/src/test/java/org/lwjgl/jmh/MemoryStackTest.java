@@ -79,5 +79,27 @@ public class MemoryStackTest {
         }
     }
 
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-Dorg.lwjgl.system.stackGrowable=true"})
+    public void stackBump(ThreadState state) {
+        // Same as stackParam, with growable mode enabled. The allocation fits in the stack, so only the bump-pointer path runs and the score should match
+        // stackParam.
+        try (MemoryStack stack = state.stack.push()) {
+            FloatBuffer fp = stack.mallocFloat(1);
+            fp.put(0, 16.0f);
+            glVertexAttrib1fv(1, fp);
+        }
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-Dorg.lwjgl.system.stackGrowable=true"}) // overflow segments require a growable stack
+    public void stackSpill(ThreadState state) {
+        // 48KB does not fit in the 32KB stack and overflows to a segment
+        try (MemoryStack stack = state.stack.push()) {
+            FloatBuffer fp = stack.mallocFloat(12 * 1024);
+            fp.put(0, 16.0f);
+            glVertexAttrib4fv(1, fp);
+        }
+    }
 
 }
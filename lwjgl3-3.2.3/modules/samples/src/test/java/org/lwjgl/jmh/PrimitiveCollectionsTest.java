@@ -0,0 +1,187 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.system.collections.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+
+/**
+ * Compares the off-heap primitive collections in {@code org.lwjgl.system.collections} to boxed JDK collections.
+ *
+ * <p>Keys are 16-byte aligned, like the addresses of native allocations, which is the common use-case in LWJGL.</p>
+ */
+@State(Scope.Benchmark)
+public class PrimitiveCollectionsTest {
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private long[] keys;
+    private long[] misses;
+
+    private LongLongMap     lwjglMap;
+    private Map<Long, Long> javaMap;
+
+    private LongHashSet lwjglSet;
+    private Set<Long>   javaSet;
+
+    private IntArrayList  lwjglList;
+    private List<Integer> javaList;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        keys = new long[size];
+        misses = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (random.nextLong() & 0x0000_7FFF_FFFF_FFF0L) | 0x10L;
+            misses[i] = keys[i] + 8L;
+        }
+
+        lwjglMap = new LongLongMap(size);
+        javaMap = new HashMap<>(size * 2);
+        lwjglSet = new LongHashSet(size);
+        javaSet = new HashSet<>(size * 2);
+        for (long key : keys) {
+            lwjglMap.put(key, key);
+            javaMap.put(key, key);
+            lwjglSet.add(key);
+            javaSet.add(key);
+        }
+
+        lwjglList = new IntArrayList(size);
+        javaList = new ArrayList<>(size);
+    }
+
+    @TearDown
+    public void teardown() {
+        lwjglList.free();
+        lwjglSet.free();
+        lwjglMap.free();
+    }
+
+    @Benchmark
+    public long map_get_LWJGL() {
+        long sum = 0L;
+        for (long key : keys) {
+            sum += lwjglMap.get(key, 0L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long map_get_java() {
+        long sum = 0L;
+        for (long key : keys) {
+            sum += javaMap.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long map_miss_LWJGL() {
+        long sum = 0L;
+        for (long key : misses) {
+            sum += lwjglMap.get(key, 1L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long map_miss_java() {
+        long sum = 0L;
+        for (long key : misses) {
+            sum += javaMap.getOrDefault(key, 1L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int map_putRemove_LWJGL() {
+        try (LongLongMap map = new LongLongMap(size)) {
+            for (long key : keys) {
+                map.put(key, key);
+            }
+            for (long key : keys) {
+                map.remove(key);
+            }
+            return map.size();
+        }
+    }
+
+    @Benchmark
+    public int map_putRemove_java() {
+        Map<Long, Long> map = new HashMap<>(size * 2);
+        for (long key : keys) {
+            map.put(key, key);
+        }
+        for (long key : keys) {
+            map.remove(key);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public int set_contains_LWJGL() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (lwjglSet.contains(keys[i])) {
+                count++;
+            }
+            if (lwjglSet.contains(misses[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int set_contains_java() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (javaSet.contains(keys[i])) {
+                count++;
+            }
+            if (javaSet.contains(misses[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long list_addSum_LWJGL() {
+        IntArrayList list = lwjglList;
+        list.clear();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        long sum = 0L;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long list_addSum_java() {
+        List<Integer> list = javaList;
+        list.clear();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        long sum = 0L;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.vulkan.*;
+import org.openjdk.jmh.annotations.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/** Compares ways to read a single member across a struct buffer. */
+@State(Scope.Benchmark)
+public class StructBulkTest {
+
+    @Param({"16", "1024", "100000"})
+    public int count;
+
+    private VkDrawIndexedIndirectCommand.Buffer commands;
+
+    private int[] indexCounts;
+
+    @Setup
+    public void setup() {
+        commands = VkDrawIndexedIndirectCommand.calloc(count);
+        for (int i = 0; i < count; i++) {
+            commands.get(i).indexCount(i);
+        }
+        indexCounts = new int[count];
+    }
+
+    @TearDown
+    public void teardown() {
+        commands.free();
+    }
+
+    @Benchmark
+    public int[] get_iterator() {
+        int i = 0;
+        for (VkDrawIndexedIndirectCommand cmd : commands) {
+            indexCounts[i++] = cmd.indexCount();
+        }
+        return indexCounts;
+    }
+
+    @Benchmark
+    public int[] get_index() {
+        for (int i = 0; i < count; i++) {
+            indexCounts[i] = commands.get(i).indexCount();
+        }
+        return indexCounts;
+    }
+
+    @Benchmark
+    public int[] get_static() {
+        long address = commands.address0();
+        for (int i = 0; i < count; i++) {
+            indexCounts[i] = VkDrawIndexedIndirectCommand.nindexCount(address + i * VkDrawIndexedIndirectCommand.SIZEOF);
+        }
+        return indexCounts;
+    }
+
+    @Benchmark
+    public int[] get_bulk() {
+        commands.getIndexCount(indexCounts);
+        return indexCounts;
+    }
+
+    @Benchmark
+    public long sum_forEachAddress() {
+        long[] sum = {0L};
+        commands.forEachAddress(address -> sum[0] += VkDrawIndexedIndirectCommand.nindexCount(address));
+        return sum[0];
+    }
+
+    @Benchmark
+    public long sum_baseline() {
+        long sum = 0L;
+        for (long address = memAddress(commands), fence = address + (long)count * VkDrawIndexedIndirectCommand.SIZEOF; address < fence; address += VkDrawIndexedIndirectCommand.SIZEOF) {
+            sum += VkDrawIndexedIndirectCommand.nindexCount(address);
+        }
+        return sum;
+    }
+
+}
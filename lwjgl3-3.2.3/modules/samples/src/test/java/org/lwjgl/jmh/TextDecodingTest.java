@@ -0,0 +1,95 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import sun.misc.*;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+/**
+ * Measures decoding of null-terminated native strings, from short identifiers to large info logs.
+ *
+ * <p>{@code ascii} inputs contain ASCII characters only, {@code utf8} inputs contain a non-ASCII character every 64 bytes.</p>
+ */
+@State(Scope.Benchmark)
+public class TextDecodingTest {
+
+    private static final Unsafe UNSAFE = Bench.getUnsafeInstance();
+
+    @Param({"16", "256", "4096", "65536", "1048576"})
+    public int length;
+
+    @Param({"ascii", "utf8"})
+    public String content;
+
+    private ByteBuffer text;
+
+    private long address;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; sb.length() < length; i++) {
+            if ("utf8".equals(content) && (i & 63) == 63) {
+                sb.append('\u00E9');
+            } else {
+                sb.append((char)('a' + (i % 26)));
+            }
+        }
+
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        text = memAlloc(bytes.length + 1);
+        text.put(bytes).put((byte)0).flip();
+
+        // misaligned on purpose, the common case for strings in native structs
+        address = memAddress(text) + 1;
+    }
+
+    @TearDown
+    public void teardown() {
+        memFree(text);
+    }
+
+    @Benchmark
+    public int strlen_LWJGL() {
+        return memLengthNT1(memByteBuffer(address, text.remaining() - 1));
+    }
+
+    @Benchmark
+    public int strlen_baseline() {
+        int i = 0;
+        while (UNSAFE.getByte(null, address + i) != 0) {
+            i++;
+        }
+        return i;
+    }
+
+    @Benchmark
+    public String memASCII_LWJGL() {
+        return memASCII(address);
+    }
+
+    @Benchmark
+    public String memUTF8_LWJGL() {
+        return memUTF8(address);
+    }
+
+    @Benchmark
+    public String memUTF8_baseline() {
+        int length = memLengthNT1(memByteBuffer(address, text.remaining() - 1));
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = UNSAFE.getByte(null, address + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
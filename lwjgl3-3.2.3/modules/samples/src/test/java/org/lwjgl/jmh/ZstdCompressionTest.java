@@ -0,0 +1,164 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.util.zstd.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * Compares the compression throughput of {@link ZstdWritableByteChannel}, single-threaded and with one worker per processor, with
+ * {@link GZIPOutputStream} on a corpus file.
+ *
+ * <p>By default, a synthetic corpus of {@code sizeMB} MB is generated. Use {@code -Djmh.corpus=<path>} to benchmark a real corpus instead; multi-GB files
+ * are memory-mapped and compressed directly from the page cache. The compressed output is discarded, so the benchmark measures compression, not I/O.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ZstdCompressionTest {
+
+    private static final int CHUNK = 1024 * 1024;
+
+    @Param({"256"})
+    public int sizeMB;
+
+    @Param({"1", "3", "9"})
+    public int level;
+
+    private Path corpus;
+    private boolean temporary;
+
+    private FileChannel channel;
+    private ByteBuffer  mapped;
+
+    private byte[] chunk;
+
+    private ZstdContextPool pool;
+
+    @Setup
+    public void setup() throws IOException {
+        String path = System.getProperty("jmh.corpus");
+        if (path != null) {
+            corpus = Paths.get(path);
+        } else {
+            corpus = Files.createTempFile("lwjgl-jmh", ".corpus");
+            temporary = true;
+
+            // log-like text: compressible, but not trivially
+            Random random = new Random(1234L);
+            try (Writer writer = Files.newBufferedWriter(corpus)) {
+                for (long size = 0L; size < (long)sizeMB * 1024L * 1024L; ) {
+                    String line = String.format("%08d INFO  [worker-%d] request %x completed in %d ms\n",
+                        size, random.nextInt(16), random.nextLong(), random.nextInt(1000)
+                    );
+                    writer.write(line);
+                    size += line.length();
+                }
+            }
+        }
+
+        channel = FileChannel.open(corpus, StandardOpenOption.READ);
+        // Larger corpora are streamed in 2GB windows
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, Math.min(channel.size(), Integer.MAX_VALUE));
+
+        chunk = new byte[CHUNK];
+
+        pool = new ZstdContextPool(2);
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        pool.close();
+        channel.close();
+        if (temporary) {
+            Files.delete(corpus);
+        }
+    }
+
+    /** Discards the compressed output and counts the bytes. */
+    private static final class NullChannel implements WritableByteChannel {
+        long bytes;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int size = src.remaining();
+            src.position(src.limit());
+            bytes += size;
+            return size;
+        }
+
+        @Override public boolean isOpen() { return true; }
+        @Override public void close() { }
+    }
+
+    private void forEachWindow(IOConsumer consumer) throws IOException {
+        long size = channel.size();
+        for (long offset = 0L; offset < size; offset += Integer.MAX_VALUE) {
+            ByteBuffer window = offset == 0L
+                ? mapped.duplicate()
+                : channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(size - offset, Integer.MAX_VALUE));
+            consumer.accept(window);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOConsumer {
+        void accept(ByteBuffer window) throws IOException;
+    }
+
+    @Benchmark
+    public long zstd() throws IOException {
+        return zstd(0);
+    }
+
+    @Benchmark
+    public long zstdMT() throws IOException {
+        return zstd(Runtime.getRuntime().availableProcessors());
+    }
+
+    private long zstd(int nbWorkers) throws IOException {
+        NullChannel sink = new NullChannel();
+        try (ZstdWritableByteChannel zstd = new ZstdWritableByteChannel(sink, level, nbWorkers, pool)) {
+            forEachWindow(window -> {
+                // mapped buffers are direct, no copies
+                while (window.hasRemaining()) {
+                    zstd.write(window);
+                }
+            });
+        }
+        return sink.bytes;
+    }
+
+    @Benchmark
+    public long gzip() throws IOException {
+        NullChannel sink = new NullChannel();
+        try (OutputStream gzip = new DeflaterLevelOutputStream(Channels.newOutputStream(sink), Math.min(level, Deflater.BEST_COMPRESSION))) {
+            forEachWindow(window -> {
+                while (window.hasRemaining()) {
+                    int length = Math.min(window.remaining(), chunk.length);
+                    window.get(chunk, 0, length);
+                    gzip.write(chunk, 0, length);
+                }
+            });
+        }
+        return sink.bytes;
+    }
+
+    private static final class DeflaterLevelOutputStream extends GZIPOutputStream {
+        DeflaterLevelOutputStream(OutputStream out, int level) throws IOException {
+            super(out, CHUNK);
+            def.setLevel(level);
+        }
+    }
+
+}
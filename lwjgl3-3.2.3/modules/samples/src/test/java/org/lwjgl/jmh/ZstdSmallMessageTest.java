@@ -0,0 +1,145 @@
+/*
+ * Copyright LWJGL. All rights reserved.
+ * License terms: https://www.lwjgl.org/license
+ */
+package org.lwjgl.jmh;
+
+import org.lwjgl.util.zstd.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.lwjgl.system.MemoryUtil.*;
+import static org.lwjgl.util.zstd.Zstd.*;
+
+/**
+ * Compares the compression of small JSON messages with and without a dictionary trained by {@link ZstdDictionaryService}.
+ *
+ * <p>The benchmarks measure the throughput of compressing and decompressing a batch of messages, one frame per message. The compression ratio of each
+ * configuration is reported as the {@code compressionRatio} secondary result.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ZstdSmallMessageTest {
+
+    private static final int MESSAGES = 1024;
+
+    private static final String[] NAMES  = {"alice", "bob", "carol", "dave", "eve", "mallory", "trent", "victor"};
+    private static final String[] EVENTS = {"login", "logout", "purchase", "refund", "view", "search", "share"};
+
+    /** The approximate message size. */
+    @Param({"200", "1000", "4000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean dictionary;
+
+    @Param({"3"})
+    public int level;
+
+    private ZstdDictionaryService service;
+
+    private ByteBuffer[] messages;
+    private ByteBuffer[] compressed;
+
+    private ByteBuffer dst;
+
+    private double compressionRatio;
+
+    /** Reports the compression ratio of the benchmark configuration as a secondary result. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Metrics {
+
+        public double compressionRatio;
+
+        @Setup(Level.Iteration)
+        public void setup(ZstdSmallMessageTest test) {
+            compressionRatio = test.compressionRatio;
+        }
+
+    }
+
+    private static String createMessage(Random random, int size) {
+        StringBuilder sb = new StringBuilder(size + 128);
+        sb.append("{\"id\":").append(random.nextInt(1_000_000)).append(",\"items\":[");
+        while (sb.length() < size) {
+            sb.append(String.format(
+                "{\"user\":\"%s\",\"event\":\"%s\",\"timestamp\":%d,\"amount\":%d.%02d},",
+                NAMES[random.nextInt(NAMES.length)], EVENTS[random.nextInt(EVENTS.length)], 1600000000L + random.nextInt(1000000),
+                random.nextInt(1000), random.nextInt(100)
+            ));
+        }
+        sb.setLength(sb.length() - 1);
+        return sb.append("]}").toString();
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1234L);
+
+        service = new ZstdDictionaryService(level);
+        if (dictionary) {
+            for (int i = 0; i < 10_000; i++) {
+                ByteBuffer sample = memASCII(createMessage(random, size), false);
+                service.sample(sample);
+                memFree(sample);
+            }
+            service.train();
+        }
+
+        messages = new ByteBuffer[MESSAGES];
+        compressed = new ByteBuffer[MESSAGES];
+
+        long uncompressedSize = 0L;
+        long compressedSize   = 0L;
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = memASCII(createMessage(random, size), false);
+
+            ByteBuffer buffer = memAlloc((int)ZSTD_COMPRESSBOUND(messages[i].remaining()));
+            buffer.limit((int)service.compress(buffer, messages[i]));
+            compressed[i] = buffer;
+
+            uncompressedSize += messages[i].remaining();
+            compressedSize += buffer.remaining();
+        }
+
+        dst = memAlloc((int)ZSTD_COMPRESSBOUND(size * 2));
+
+        compressionRatio = uncompressedSize / (double)compressedSize;
+    }
+
+    @TearDown
+    public void teardown() {
+        memFree(dst);
+        for (int i = 0; i < MESSAGES; i++) {
+            memFree(compressed[i]);
+            memFree(messages[i]);
+        }
+        service.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long compress(Metrics metrics) {
+        long total = 0L;
+        for (ByteBuffer message : messages) {
+            total += service.compress(dst, message);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public long decompress(Metrics metrics) {
+        long total = 0L;
+        for (ByteBuffer frame : compressed) {
+            total += service.decompress(dst, frame);
+        }
+        return total;
+    }
+
+}